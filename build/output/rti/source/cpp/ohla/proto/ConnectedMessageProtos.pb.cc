@@ -0,0 +1,1783 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ConnectedMessageProtos.proto
+
+#define INTERNAL_SUPPRESS_PROTOBUF_FIELD_DEPRECATION
+#include "ConnectedMessageProtos.pb.h"
+
+#include <algorithm>
+
+#include <google/protobuf/stubs/common.h>
+#include <google/protobuf/stubs/once.h>
+#include <google/protobuf/io/coded_stream.h>
+#include <google/protobuf/wire_format_lite_inl.h>
+#include <google/protobuf/descriptor.h>
+#include <google/protobuf/generated_message_reflection.h>
+#include <google/protobuf/reflection_ops.h>
+#include <google/protobuf/wire_format.h>
+// @@protoc_insertion_point(includes)
+
+namespace ohla {
+namespace rti {
+namespace messages {
+namespace proto {
+
+namespace {
+
+const ::google::protobuf::Descriptor* CreateFederationExecutionResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  CreateFederationExecutionResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* CreateFederationExecutionResponse_Failure_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  CreateFederationExecutionResponse_Failure_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* CreateFederationExecutionResponse_Failure_Cause_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* DestroyFederationExecutionResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  DestroyFederationExecutionResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* DestroyFederationExecutionResponse_Failure_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  DestroyFederationExecutionResponse_Failure_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* DestroyFederationExecutionResponse_Failure_Cause_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* ReportFederationExecutions_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ReportFederationExecutions_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ReportFederationExecutions_FederationExecutionInformation_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ReportFederationExecutions_FederationExecutionInformation_reflection_ = NULL;
+
+}  // namespace
+
+
+void protobuf_AssignDesc_ConnectedMessageProtos_2eproto() {
+  protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+  const ::google::protobuf::FileDescriptor* file =
+    ::google::protobuf::DescriptorPool::generated_pool()->FindFileByName(
+      "ConnectedMessageProtos.proto");
+  GOOGLE_CHECK(file != NULL);
+  CreateFederationExecutionResponse_descriptor_ = file->message_type(0);
+  static const int CreateFederationExecutionResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateFederationExecutionResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateFederationExecutionResponse, failure_),
+  };
+  CreateFederationExecutionResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      CreateFederationExecutionResponse_descriptor_,
+      CreateFederationExecutionResponse::default_instance_,
+      CreateFederationExecutionResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateFederationExecutionResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateFederationExecutionResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(CreateFederationExecutionResponse));
+  CreateFederationExecutionResponse_Failure_descriptor_ = CreateFederationExecutionResponse_descriptor_->nested_type(0);
+  static const int CreateFederationExecutionResponse_Failure_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateFederationExecutionResponse_Failure, cause_),
+  };
+  CreateFederationExecutionResponse_Failure_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      CreateFederationExecutionResponse_Failure_descriptor_,
+      CreateFederationExecutionResponse_Failure::default_instance_,
+      CreateFederationExecutionResponse_Failure_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateFederationExecutionResponse_Failure, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateFederationExecutionResponse_Failure, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(CreateFederationExecutionResponse_Failure));
+  CreateFederationExecutionResponse_Failure_Cause_descriptor_ = CreateFederationExecutionResponse_Failure_descriptor_->enum_type(0);
+  DestroyFederationExecutionResponse_descriptor_ = file->message_type(1);
+  static const int DestroyFederationExecutionResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DestroyFederationExecutionResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DestroyFederationExecutionResponse, failure_),
+  };
+  DestroyFederationExecutionResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      DestroyFederationExecutionResponse_descriptor_,
+      DestroyFederationExecutionResponse::default_instance_,
+      DestroyFederationExecutionResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DestroyFederationExecutionResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DestroyFederationExecutionResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(DestroyFederationExecutionResponse));
+  DestroyFederationExecutionResponse_Failure_descriptor_ = DestroyFederationExecutionResponse_descriptor_->nested_type(0);
+  static const int DestroyFederationExecutionResponse_Failure_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DestroyFederationExecutionResponse_Failure, cause_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DestroyFederationExecutionResponse_Failure, currentlyjoinedfederates_),
+  };
+  DestroyFederationExecutionResponse_Failure_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      DestroyFederationExecutionResponse_Failure_descriptor_,
+      DestroyFederationExecutionResponse_Failure::default_instance_,
+      DestroyFederationExecutionResponse_Failure_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DestroyFederationExecutionResponse_Failure, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DestroyFederationExecutionResponse_Failure, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(DestroyFederationExecutionResponse_Failure));
+  DestroyFederationExecutionResponse_Failure_Cause_descriptor_ = DestroyFederationExecutionResponse_Failure_descriptor_->enum_type(0);
+  ReportFederationExecutions_descriptor_ = file->message_type(2);
+  static const int ReportFederationExecutions_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReportFederationExecutions, federationexecutioninformations_),
+  };
+  ReportFederationExecutions_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ReportFederationExecutions_descriptor_,
+      ReportFederationExecutions::default_instance_,
+      ReportFederationExecutions_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReportFederationExecutions, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReportFederationExecutions, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ReportFederationExecutions));
+  ReportFederationExecutions_FederationExecutionInformation_descriptor_ = ReportFederationExecutions_descriptor_->nested_type(0);
+  static const int ReportFederationExecutions_FederationExecutionInformation_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReportFederationExecutions_FederationExecutionInformation, federationexecutionname_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReportFederationExecutions_FederationExecutionInformation, logicaltimeimplementationname_),
+  };
+  ReportFederationExecutions_FederationExecutionInformation_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ReportFederationExecutions_FederationExecutionInformation_descriptor_,
+      ReportFederationExecutions_FederationExecutionInformation::default_instance_,
+      ReportFederationExecutions_FederationExecutionInformation_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReportFederationExecutions_FederationExecutionInformation, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReportFederationExecutions_FederationExecutionInformation, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ReportFederationExecutions_FederationExecutionInformation));
+}
+
+namespace {
+
+GOOGLE_PROTOBUF_DECLARE_ONCE(protobuf_AssignDescriptors_once_);
+inline void protobuf_AssignDescriptorsOnce() {
+  ::google::protobuf::GoogleOnceInit(&protobuf_AssignDescriptors_once_,
+                 &protobuf_AssignDesc_ConnectedMessageProtos_2eproto);
+}
+
+void protobuf_RegisterTypes(const ::std::string&) {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    CreateFederationExecutionResponse_descriptor_, &CreateFederationExecutionResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    CreateFederationExecutionResponse_Failure_descriptor_, &CreateFederationExecutionResponse_Failure::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    DestroyFederationExecutionResponse_descriptor_, &DestroyFederationExecutionResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    DestroyFederationExecutionResponse_Failure_descriptor_, &DestroyFederationExecutionResponse_Failure::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ReportFederationExecutions_descriptor_, &ReportFederationExecutions::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ReportFederationExecutions_FederationExecutionInformation_descriptor_, &ReportFederationExecutions_FederationExecutionInformation::default_instance());
+}
+
+}  // namespace
+
+void protobuf_ShutdownFile_ConnectedMessageProtos_2eproto() {
+  delete CreateFederationExecutionResponse::default_instance_;
+  delete CreateFederationExecutionResponse_reflection_;
+  delete CreateFederationExecutionResponse_Failure::default_instance_;
+  delete CreateFederationExecutionResponse_Failure_reflection_;
+  delete DestroyFederationExecutionResponse::default_instance_;
+  delete DestroyFederationExecutionResponse_reflection_;
+  delete DestroyFederationExecutionResponse_Failure::default_instance_;
+  delete DestroyFederationExecutionResponse_Failure_reflection_;
+  delete ReportFederationExecutions::default_instance_;
+  delete ReportFederationExecutions_reflection_;
+  delete ReportFederationExecutions_FederationExecutionInformation::default_instance_;
+  delete ReportFederationExecutions_FederationExecutionInformation_reflection_;
+}
+
+void protobuf_AddDesc_ConnectedMessageProtos_2eproto() {
+  static bool already_here = false;
+  if (already_here) return;
+  already_here = true;
+  GOOGLE_PROTOBUF_VERIFY_VERSION;
+
+  ::google::protobuf::DescriptorPool::InternalAddGeneratedFile(
+    "\n\034ConnectedMessageProtos.proto\022\027ohla.rti"
+    ".messages.proto\"\315\002\n!CreateFederationExec"
+    "utionResponse\022\021\n\trequestId\030\001 \002(\004\022S\n\007fail"
+    "ure\030\002 \001(\0132B.ohla.rti.messages.proto.Crea"
+    "teFederationExecutionResponse.Failure\032\277\001"
+    "\n\007Failure\022W\n\005cause\030\001 \002(\0162H.ohla.rti.mess"
+    "ages.proto.CreateFederationExecutionResp"
+    "onse.Failure.Cause\"[\n\005Cause\022\'\n#FEDERATIO"
+    "N_EXECUTION_ALREADY_EXISTS\020\001\022)\n%COULD_NO"
+    "T_CREATE_LOGICAL_TIME_FACTORY\020\002\"\347\002\n\"Dest"
+    "royFederationExecutionResponse\022\021\n\treques"
+    "tId\030\001 \002(\004\022T\n\007failure\030\002 \001(\0132C.ohla.rti.me"
+    "ssages.proto.DestroyFederationExecutionR"
+    "esponse.Failure\032\327\001\n\007Failure\022X\n\005cause\030\001 \002"
+    "(\0162I.ohla.rti.messages.proto.DestroyFede"
+    "rationExecutionResponse.Failure.Cause\022 \n"
+    "\030currentlyJoinedFederates\030\002 \003(\t\"P\n\005Cause"
+    "\022\036\n\032FEDERATES_CURRENTLY_JOINED\020\001\022\'\n#FEDE"
+    "RATION_EXECUTION_DOES_NOT_EXIST\020\002\"\203\002\n\032Re"
+    "portFederationExecutions\022{\n\037federationEx"
+    "ecutionInformations\030\001 \003(\0132R.ohla.rti.mes"
+    "sages.proto.ReportFederationExecutions.F"
+    "ederationExecutionInformation\032h\n\036Federat"
+    "ionExecutionInformation\022\037\n\027federationExe"
+    "cutionName\030\001 \002(\t\022%\n\035logicalTimeImplement"
+    "ationName\030\002 \002(\tB \n\036net.sf.ohla.rti.messa"
+    "ges.proto", 1049);
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
+    "ConnectedMessageProtos.proto", &protobuf_RegisterTypes);
+  CreateFederationExecutionResponse::default_instance_ = new CreateFederationExecutionResponse();
+  CreateFederationExecutionResponse_Failure::default_instance_ = new CreateFederationExecutionResponse_Failure();
+  DestroyFederationExecutionResponse::default_instance_ = new DestroyFederationExecutionResponse();
+  DestroyFederationExecutionResponse_Failure::default_instance_ = new DestroyFederationExecutionResponse_Failure();
+  ReportFederationExecutions::default_instance_ = new ReportFederationExecutions();
+  ReportFederationExecutions_FederationExecutionInformation::default_instance_ = new ReportFederationExecutions_FederationExecutionInformation();
+  CreateFederationExecutionResponse::default_instance_->InitAsDefaultInstance();
+  CreateFederationExecutionResponse_Failure::default_instance_->InitAsDefaultInstance();
+  DestroyFederationExecutionResponse::default_instance_->InitAsDefaultInstance();
+  DestroyFederationExecutionResponse_Failure::default_instance_->InitAsDefaultInstance();
+  ReportFederationExecutions::default_instance_->InitAsDefaultInstance();
+  ReportFederationExecutions_FederationExecutionInformation::default_instance_->InitAsDefaultInstance();
+  ::google::protobuf::internal::OnShutdown(&protobuf_ShutdownFile_ConnectedMessageProtos_2eproto);
+}
+
+// Force AddDescriptors() to be called at static initialization time.
+struct StaticDescriptorInitializer_ConnectedMessageProtos_2eproto {
+  StaticDescriptorInitializer_ConnectedMessageProtos_2eproto() {
+    protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+  }
+} static_descriptor_initializer_ConnectedMessageProtos_2eproto_;
+
+// ===================================================================
+
+const ::google::protobuf::EnumDescriptor* CreateFederationExecutionResponse_Failure_Cause_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return CreateFederationExecutionResponse_Failure_Cause_descriptor_;
+}
+bool CreateFederationExecutionResponse_Failure_Cause_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const CreateFederationExecutionResponse_Failure_Cause CreateFederationExecutionResponse_Failure::FEDERATION_EXECUTION_ALREADY_EXISTS;
+const CreateFederationExecutionResponse_Failure_Cause CreateFederationExecutionResponse_Failure::COULD_NOT_CREATE_LOGICAL_TIME_FACTORY;
+const CreateFederationExecutionResponse_Failure_Cause CreateFederationExecutionResponse_Failure::Cause_MIN;
+const CreateFederationExecutionResponse_Failure_Cause CreateFederationExecutionResponse_Failure::Cause_MAX;
+const int CreateFederationExecutionResponse_Failure::Cause_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int CreateFederationExecutionResponse_Failure::kCauseFieldNumber;
+#endif  // !_MSC_VER
+
+CreateFederationExecutionResponse_Failure::CreateFederationExecutionResponse_Failure()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void CreateFederationExecutionResponse_Failure::InitAsDefaultInstance() {
+}
+
+CreateFederationExecutionResponse_Failure::CreateFederationExecutionResponse_Failure(const CreateFederationExecutionResponse_Failure& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void CreateFederationExecutionResponse_Failure::SharedCtor() {
+  _cached_size_ = 0;
+  cause_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+CreateFederationExecutionResponse_Failure::~CreateFederationExecutionResponse_Failure() {
+  SharedDtor();
+}
+
+void CreateFederationExecutionResponse_Failure::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void CreateFederationExecutionResponse_Failure::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* CreateFederationExecutionResponse_Failure::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return CreateFederationExecutionResponse_Failure_descriptor_;
+}
+
+const CreateFederationExecutionResponse_Failure& CreateFederationExecutionResponse_Failure::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+CreateFederationExecutionResponse_Failure* CreateFederationExecutionResponse_Failure::default_instance_ = NULL;
+
+CreateFederationExecutionResponse_Failure* CreateFederationExecutionResponse_Failure::New() const {
+  return new CreateFederationExecutionResponse_Failure;
+}
+
+void CreateFederationExecutionResponse_Failure::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    cause_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool CreateFederationExecutionResponse_Failure::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure_Cause_IsValid(value)) {
+            set_cause(static_cast< ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure_Cause >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void CreateFederationExecutionResponse_Failure::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->cause(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* CreateFederationExecutionResponse_Failure::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->cause(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int CreateFederationExecutionResponse_Failure::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;
+    if (has_cause()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->cause());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void CreateFederationExecutionResponse_Failure::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const CreateFederationExecutionResponse_Failure* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const CreateFederationExecutionResponse_Failure*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void CreateFederationExecutionResponse_Failure::MergeFrom(const CreateFederationExecutionResponse_Failure& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_cause()) {
+      set_cause(from.cause());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void CreateFederationExecutionResponse_Failure::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void CreateFederationExecutionResponse_Failure::CopyFrom(const CreateFederationExecutionResponse_Failure& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool CreateFederationExecutionResponse_Failure::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void CreateFederationExecutionResponse_Failure::Swap(CreateFederationExecutionResponse_Failure* other) {
+  if (other != this) {
+    std::swap(cause_, other->cause_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata CreateFederationExecutionResponse_Failure::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = CreateFederationExecutionResponse_Failure_descriptor_;
+  metadata.reflection = CreateFederationExecutionResponse_Failure_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int CreateFederationExecutionResponse::kRequestIdFieldNumber;
+const int CreateFederationExecutionResponse::kFailureFieldNumber;
+#endif  // !_MSC_VER
+
+CreateFederationExecutionResponse::CreateFederationExecutionResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void CreateFederationExecutionResponse::InitAsDefaultInstance() {
+  failure_ = const_cast< ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure*>(&::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure::default_instance());
+}
+
+CreateFederationExecutionResponse::CreateFederationExecutionResponse(const CreateFederationExecutionResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void CreateFederationExecutionResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  failure_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+CreateFederationExecutionResponse::~CreateFederationExecutionResponse() {
+  SharedDtor();
+}
+
+void CreateFederationExecutionResponse::SharedDtor() {
+  if (this != default_instance_) {
+    delete failure_;
+  }
+}
+
+void CreateFederationExecutionResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* CreateFederationExecutionResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return CreateFederationExecutionResponse_descriptor_;
+}
+
+const CreateFederationExecutionResponse& CreateFederationExecutionResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+CreateFederationExecutionResponse* CreateFederationExecutionResponse::default_instance_ = NULL;
+
+CreateFederationExecutionResponse* CreateFederationExecutionResponse::New() const {
+  return new CreateFederationExecutionResponse;
+}
+
+void CreateFederationExecutionResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_failure()) {
+      if (failure_ != NULL) failure_->::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool CreateFederationExecutionResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_failure;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_failure:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_failure()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void CreateFederationExecutionResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;
+  if (has_failure()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->failure(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* CreateFederationExecutionResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;
+  if (has_failure()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->failure(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int CreateFederationExecutionResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;
+    if (has_failure()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->failure());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void CreateFederationExecutionResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const CreateFederationExecutionResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const CreateFederationExecutionResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void CreateFederationExecutionResponse::MergeFrom(const CreateFederationExecutionResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_failure()) {
+      mutable_failure()->::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure::MergeFrom(from.failure());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void CreateFederationExecutionResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void CreateFederationExecutionResponse::CopyFrom(const CreateFederationExecutionResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool CreateFederationExecutionResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_failure()) {
+    if (!this->failure().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void CreateFederationExecutionResponse::Swap(CreateFederationExecutionResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(failure_, other->failure_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata CreateFederationExecutionResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = CreateFederationExecutionResponse_descriptor_;
+  metadata.reflection = CreateFederationExecutionResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+const ::google::protobuf::EnumDescriptor* DestroyFederationExecutionResponse_Failure_Cause_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return DestroyFederationExecutionResponse_Failure_Cause_descriptor_;
+}
+bool DestroyFederationExecutionResponse_Failure_Cause_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const DestroyFederationExecutionResponse_Failure_Cause DestroyFederationExecutionResponse_Failure::FEDERATES_CURRENTLY_JOINED;
+const DestroyFederationExecutionResponse_Failure_Cause DestroyFederationExecutionResponse_Failure::FEDERATION_EXECUTION_DOES_NOT_EXIST;
+const DestroyFederationExecutionResponse_Failure_Cause DestroyFederationExecutionResponse_Failure::Cause_MIN;
+const DestroyFederationExecutionResponse_Failure_Cause DestroyFederationExecutionResponse_Failure::Cause_MAX;
+const int DestroyFederationExecutionResponse_Failure::Cause_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int DestroyFederationExecutionResponse_Failure::kCauseFieldNumber;
+const int DestroyFederationExecutionResponse_Failure::kCurrentlyJoinedFederatesFieldNumber;
+#endif  // !_MSC_VER
+
+DestroyFederationExecutionResponse_Failure::DestroyFederationExecutionResponse_Failure()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void DestroyFederationExecutionResponse_Failure::InitAsDefaultInstance() {
+}
+
+DestroyFederationExecutionResponse_Failure::DestroyFederationExecutionResponse_Failure(const DestroyFederationExecutionResponse_Failure& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void DestroyFederationExecutionResponse_Failure::SharedCtor() {
+  _cached_size_ = 0;
+  cause_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+DestroyFederationExecutionResponse_Failure::~DestroyFederationExecutionResponse_Failure() {
+  SharedDtor();
+}
+
+void DestroyFederationExecutionResponse_Failure::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void DestroyFederationExecutionResponse_Failure::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* DestroyFederationExecutionResponse_Failure::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return DestroyFederationExecutionResponse_Failure_descriptor_;
+}
+
+const DestroyFederationExecutionResponse_Failure& DestroyFederationExecutionResponse_Failure::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+DestroyFederationExecutionResponse_Failure* DestroyFederationExecutionResponse_Failure::default_instance_ = NULL;
+
+DestroyFederationExecutionResponse_Failure* DestroyFederationExecutionResponse_Failure::New() const {
+  return new DestroyFederationExecutionResponse_Failure;
+}
+
+void DestroyFederationExecutionResponse_Failure::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    cause_ = 1;
+  }
+  currentlyjoinedfederates_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool DestroyFederationExecutionResponse_Failure::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure_Cause_IsValid(value)) {
+            set_cause(static_cast< ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure_Cause >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_currentlyJoinedFederates;
+        break;
+      }
+
+      // repeated string currentlyJoinedFederates = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_currentlyJoinedFederates:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_currentlyjoinedfederates()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->currentlyjoinedfederates(this->currentlyjoinedfederates_size() - 1).data(),
+            this->currentlyjoinedfederates(this->currentlyjoinedfederates_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_currentlyJoinedFederates;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void DestroyFederationExecutionResponse_Failure::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->cause(), output);
+  }
+
+  // repeated string currentlyJoinedFederates = 2;
+  for (int i = 0; i < this->currentlyjoinedfederates_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->currentlyjoinedfederates(i).data(), this->currentlyjoinedfederates(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->currentlyjoinedfederates(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* DestroyFederationExecutionResponse_Failure::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->cause(), target);
+  }
+
+  // repeated string currentlyJoinedFederates = 2;
+  for (int i = 0; i < this->currentlyjoinedfederates_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->currentlyjoinedfederates(i).data(), this->currentlyjoinedfederates(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(2, this->currentlyjoinedfederates(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int DestroyFederationExecutionResponse_Failure::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;
+    if (has_cause()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->cause());
+    }
+
+  }
+  // repeated string currentlyJoinedFederates = 2;
+  total_size += 1 * this->currentlyjoinedfederates_size();
+  for (int i = 0; i < this->currentlyjoinedfederates_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->currentlyjoinedfederates(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void DestroyFederationExecutionResponse_Failure::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const DestroyFederationExecutionResponse_Failure* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const DestroyFederationExecutionResponse_Failure*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void DestroyFederationExecutionResponse_Failure::MergeFrom(const DestroyFederationExecutionResponse_Failure& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  currentlyjoinedfederates_.MergeFrom(from.currentlyjoinedfederates_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_cause()) {
+      set_cause(from.cause());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void DestroyFederationExecutionResponse_Failure::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void DestroyFederationExecutionResponse_Failure::CopyFrom(const DestroyFederationExecutionResponse_Failure& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool DestroyFederationExecutionResponse_Failure::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void DestroyFederationExecutionResponse_Failure::Swap(DestroyFederationExecutionResponse_Failure* other) {
+  if (other != this) {
+    std::swap(cause_, other->cause_);
+    currentlyjoinedfederates_.Swap(&other->currentlyjoinedfederates_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata DestroyFederationExecutionResponse_Failure::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = DestroyFederationExecutionResponse_Failure_descriptor_;
+  metadata.reflection = DestroyFederationExecutionResponse_Failure_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int DestroyFederationExecutionResponse::kRequestIdFieldNumber;
+const int DestroyFederationExecutionResponse::kFailureFieldNumber;
+#endif  // !_MSC_VER
+
+DestroyFederationExecutionResponse::DestroyFederationExecutionResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void DestroyFederationExecutionResponse::InitAsDefaultInstance() {
+  failure_ = const_cast< ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure*>(&::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure::default_instance());
+}
+
+DestroyFederationExecutionResponse::DestroyFederationExecutionResponse(const DestroyFederationExecutionResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void DestroyFederationExecutionResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  failure_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+DestroyFederationExecutionResponse::~DestroyFederationExecutionResponse() {
+  SharedDtor();
+}
+
+void DestroyFederationExecutionResponse::SharedDtor() {
+  if (this != default_instance_) {
+    delete failure_;
+  }
+}
+
+void DestroyFederationExecutionResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* DestroyFederationExecutionResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return DestroyFederationExecutionResponse_descriptor_;
+}
+
+const DestroyFederationExecutionResponse& DestroyFederationExecutionResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+DestroyFederationExecutionResponse* DestroyFederationExecutionResponse::default_instance_ = NULL;
+
+DestroyFederationExecutionResponse* DestroyFederationExecutionResponse::New() const {
+  return new DestroyFederationExecutionResponse;
+}
+
+void DestroyFederationExecutionResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_failure()) {
+      if (failure_ != NULL) failure_->::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool DestroyFederationExecutionResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_failure;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_failure:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_failure()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void DestroyFederationExecutionResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;
+  if (has_failure()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->failure(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* DestroyFederationExecutionResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;
+  if (has_failure()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->failure(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int DestroyFederationExecutionResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;
+    if (has_failure()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->failure());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void DestroyFederationExecutionResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const DestroyFederationExecutionResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const DestroyFederationExecutionResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void DestroyFederationExecutionResponse::MergeFrom(const DestroyFederationExecutionResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_failure()) {
+      mutable_failure()->::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure::MergeFrom(from.failure());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void DestroyFederationExecutionResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void DestroyFederationExecutionResponse::CopyFrom(const DestroyFederationExecutionResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool DestroyFederationExecutionResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_failure()) {
+    if (!this->failure().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void DestroyFederationExecutionResponse::Swap(DestroyFederationExecutionResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(failure_, other->failure_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata DestroyFederationExecutionResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = DestroyFederationExecutionResponse_descriptor_;
+  metadata.reflection = DestroyFederationExecutionResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ReportFederationExecutions_FederationExecutionInformation::kFederationExecutionNameFieldNumber;
+const int ReportFederationExecutions_FederationExecutionInformation::kLogicalTimeImplementationNameFieldNumber;
+#endif  // !_MSC_VER
+
+ReportFederationExecutions_FederationExecutionInformation::ReportFederationExecutions_FederationExecutionInformation()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ReportFederationExecutions_FederationExecutionInformation::InitAsDefaultInstance() {
+}
+
+ReportFederationExecutions_FederationExecutionInformation::ReportFederationExecutions_FederationExecutionInformation(const ReportFederationExecutions_FederationExecutionInformation& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ReportFederationExecutions_FederationExecutionInformation::SharedCtor() {
+  _cached_size_ = 0;
+  federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  logicaltimeimplementationname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ReportFederationExecutions_FederationExecutionInformation::~ReportFederationExecutions_FederationExecutionInformation() {
+  SharedDtor();
+}
+
+void ReportFederationExecutions_FederationExecutionInformation::SharedDtor() {
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    delete federationexecutionname_;
+  }
+  if (logicaltimeimplementationname_ != &::google::protobuf::internal::kEmptyString) {
+    delete logicaltimeimplementationname_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void ReportFederationExecutions_FederationExecutionInformation::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ReportFederationExecutions_FederationExecutionInformation::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ReportFederationExecutions_FederationExecutionInformation_descriptor_;
+}
+
+const ReportFederationExecutions_FederationExecutionInformation& ReportFederationExecutions_FederationExecutionInformation::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ReportFederationExecutions_FederationExecutionInformation* ReportFederationExecutions_FederationExecutionInformation::default_instance_ = NULL;
+
+ReportFederationExecutions_FederationExecutionInformation* ReportFederationExecutions_FederationExecutionInformation::New() const {
+  return new ReportFederationExecutions_FederationExecutionInformation;
+}
+
+void ReportFederationExecutions_FederationExecutionInformation::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_federationexecutionname()) {
+      if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+        federationexecutionname_->clear();
+      }
+    }
+    if (has_logicaltimeimplementationname()) {
+      if (logicaltimeimplementationname_ != &::google::protobuf::internal::kEmptyString) {
+        logicaltimeimplementationname_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ReportFederationExecutions_FederationExecutionInformation::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string federationExecutionName = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_federationexecutionname()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->federationexecutionname().data(), this->federationexecutionname().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_logicalTimeImplementationName;
+        break;
+      }
+
+      // required string logicalTimeImplementationName = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_logicalTimeImplementationName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_logicaltimeimplementationname()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->logicaltimeimplementationname().data(), this->logicaltimeimplementationname().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ReportFederationExecutions_FederationExecutionInformation::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string federationExecutionName = 1;
+  if (has_federationexecutionname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federationexecutionname().data(), this->federationexecutionname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->federationexecutionname(), output);
+  }
+
+  // required string logicalTimeImplementationName = 2;
+  if (has_logicaltimeimplementationname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->logicaltimeimplementationname().data(), this->logicaltimeimplementationname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->logicaltimeimplementationname(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ReportFederationExecutions_FederationExecutionInformation::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string federationExecutionName = 1;
+  if (has_federationexecutionname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federationexecutionname().data(), this->federationexecutionname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->federationexecutionname(), target);
+  }
+
+  // required string logicalTimeImplementationName = 2;
+  if (has_logicaltimeimplementationname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->logicaltimeimplementationname().data(), this->logicaltimeimplementationname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->logicaltimeimplementationname(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ReportFederationExecutions_FederationExecutionInformation::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string federationExecutionName = 1;
+    if (has_federationexecutionname()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->federationexecutionname());
+    }
+
+    // required string logicalTimeImplementationName = 2;
+    if (has_logicaltimeimplementationname()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->logicaltimeimplementationname());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ReportFederationExecutions_FederationExecutionInformation::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ReportFederationExecutions_FederationExecutionInformation* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ReportFederationExecutions_FederationExecutionInformation*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ReportFederationExecutions_FederationExecutionInformation::MergeFrom(const ReportFederationExecutions_FederationExecutionInformation& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_federationexecutionname()) {
+      set_federationexecutionname(from.federationexecutionname());
+    }
+    if (from.has_logicaltimeimplementationname()) {
+      set_logicaltimeimplementationname(from.logicaltimeimplementationname());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ReportFederationExecutions_FederationExecutionInformation::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ReportFederationExecutions_FederationExecutionInformation::CopyFrom(const ReportFederationExecutions_FederationExecutionInformation& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ReportFederationExecutions_FederationExecutionInformation::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void ReportFederationExecutions_FederationExecutionInformation::Swap(ReportFederationExecutions_FederationExecutionInformation* other) {
+  if (other != this) {
+    std::swap(federationexecutionname_, other->federationexecutionname_);
+    std::swap(logicaltimeimplementationname_, other->logicaltimeimplementationname_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ReportFederationExecutions_FederationExecutionInformation::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ReportFederationExecutions_FederationExecutionInformation_descriptor_;
+  metadata.reflection = ReportFederationExecutions_FederationExecutionInformation_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int ReportFederationExecutions::kFederationExecutionInformationsFieldNumber;
+#endif  // !_MSC_VER
+
+ReportFederationExecutions::ReportFederationExecutions()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ReportFederationExecutions::InitAsDefaultInstance() {
+}
+
+ReportFederationExecutions::ReportFederationExecutions(const ReportFederationExecutions& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ReportFederationExecutions::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ReportFederationExecutions::~ReportFederationExecutions() {
+  SharedDtor();
+}
+
+void ReportFederationExecutions::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void ReportFederationExecutions::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ReportFederationExecutions::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ReportFederationExecutions_descriptor_;
+}
+
+const ReportFederationExecutions& ReportFederationExecutions::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ReportFederationExecutions* ReportFederationExecutions::default_instance_ = NULL;
+
+ReportFederationExecutions* ReportFederationExecutions::New() const {
+  return new ReportFederationExecutions;
+}
+
+void ReportFederationExecutions::Clear() {
+  federationexecutioninformations_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ReportFederationExecutions::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_federationExecutionInformations:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_federationexecutioninformations()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_federationExecutionInformations;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ReportFederationExecutions::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;
+  for (int i = 0; i < this->federationexecutioninformations_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->federationexecutioninformations(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ReportFederationExecutions::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;
+  for (int i = 0; i < this->federationexecutioninformations_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->federationexecutioninformations(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ReportFederationExecutions::ByteSize() const {
+  int total_size = 0;
+
+  // repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;
+  total_size += 1 * this->federationexecutioninformations_size();
+  for (int i = 0; i < this->federationexecutioninformations_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->federationexecutioninformations(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ReportFederationExecutions::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ReportFederationExecutions* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ReportFederationExecutions*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ReportFederationExecutions::MergeFrom(const ReportFederationExecutions& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  federationexecutioninformations_.MergeFrom(from.federationexecutioninformations_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ReportFederationExecutions::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ReportFederationExecutions::CopyFrom(const ReportFederationExecutions& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ReportFederationExecutions::IsInitialized() const {
+
+  for (int i = 0; i < federationexecutioninformations_size(); i++) {
+    if (!this->federationexecutioninformations(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void ReportFederationExecutions::Swap(ReportFederationExecutions* other) {
+  if (other != this) {
+    federationexecutioninformations_.Swap(&other->federationexecutioninformations_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ReportFederationExecutions::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ReportFederationExecutions_descriptor_;
+  metadata.reflection = ReportFederationExecutions_reflection_;
+  return metadata;
+}
+
+
+// @@protoc_insertion_point(namespace_scope)
+
+}  // namespace proto
+}  // namespace messages
+}  // namespace rti
+}  // namespace ohla
+
+// @@protoc_insertion_point(global_scope)
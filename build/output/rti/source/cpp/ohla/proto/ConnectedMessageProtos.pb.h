@@ -0,0 +1,1124 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ConnectedMessageProtos.proto
+
+#ifndef PROTOBUF_ConnectedMessageProtos_2eproto__INCLUDED
+#define PROTOBUF_ConnectedMessageProtos_2eproto__INCLUDED
+
+#include <string>
+
+#include <google/protobuf/stubs/common.h>
+
+#if GOOGLE_PROTOBUF_VERSION < 2005000
+#error This file was generated by a newer version of protoc which is
+#error incompatible with your Protocol Buffer headers.  Please update
+#error your headers.
+#endif
+#if 2005000 < GOOGLE_PROTOBUF_MIN_PROTOC_VERSION
+#error This file was generated by an older version of protoc which is
+#error incompatible with your Protocol Buffer headers.  Please
+#error regenerate this file with a newer version of protoc.
+#endif
+
+#include <google/protobuf/generated_message_util.h>
+#include <google/protobuf/message.h>
+#include <google/protobuf/repeated_field.h>
+#include <google/protobuf/extension_set.h>
+#include <google/protobuf/generated_enum_reflection.h>
+#include <google/protobuf/unknown_field_set.h>
+// @@protoc_insertion_point(includes)
+
+namespace ohla {
+namespace rti {
+namespace messages {
+namespace proto {
+
+// Internal implementation detail -- do not call these.
+void  protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+void protobuf_AssignDesc_ConnectedMessageProtos_2eproto();
+void protobuf_ShutdownFile_ConnectedMessageProtos_2eproto();
+
+class CreateFederationExecutionResponse;
+class CreateFederationExecutionResponse_Failure;
+class DestroyFederationExecutionResponse;
+class DestroyFederationExecutionResponse_Failure;
+class ReportFederationExecutions;
+class ReportFederationExecutions_FederationExecutionInformation;
+
+enum CreateFederationExecutionResponse_Failure_Cause {
+  CreateFederationExecutionResponse_Failure_Cause_FEDERATION_EXECUTION_ALREADY_EXISTS = 1,
+  CreateFederationExecutionResponse_Failure_Cause_COULD_NOT_CREATE_LOGICAL_TIME_FACTORY = 2
+};
+bool CreateFederationExecutionResponse_Failure_Cause_IsValid(int value);
+const CreateFederationExecutionResponse_Failure_Cause CreateFederationExecutionResponse_Failure_Cause_Cause_MIN = CreateFederationExecutionResponse_Failure_Cause_FEDERATION_EXECUTION_ALREADY_EXISTS;
+const CreateFederationExecutionResponse_Failure_Cause CreateFederationExecutionResponse_Failure_Cause_Cause_MAX = CreateFederationExecutionResponse_Failure_Cause_COULD_NOT_CREATE_LOGICAL_TIME_FACTORY;
+const int CreateFederationExecutionResponse_Failure_Cause_Cause_ARRAYSIZE = CreateFederationExecutionResponse_Failure_Cause_Cause_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* CreateFederationExecutionResponse_Failure_Cause_descriptor();
+inline const ::std::string& CreateFederationExecutionResponse_Failure_Cause_Name(CreateFederationExecutionResponse_Failure_Cause value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    CreateFederationExecutionResponse_Failure_Cause_descriptor(), value);
+}
+inline bool CreateFederationExecutionResponse_Failure_Cause_Parse(
+    const ::std::string& name, CreateFederationExecutionResponse_Failure_Cause* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<CreateFederationExecutionResponse_Failure_Cause>(
+    CreateFederationExecutionResponse_Failure_Cause_descriptor(), name, value);
+}
+enum DestroyFederationExecutionResponse_Failure_Cause {
+  DestroyFederationExecutionResponse_Failure_Cause_FEDERATES_CURRENTLY_JOINED = 1,
+  DestroyFederationExecutionResponse_Failure_Cause_FEDERATION_EXECUTION_DOES_NOT_EXIST = 2
+};
+bool DestroyFederationExecutionResponse_Failure_Cause_IsValid(int value);
+const DestroyFederationExecutionResponse_Failure_Cause DestroyFederationExecutionResponse_Failure_Cause_Cause_MIN = DestroyFederationExecutionResponse_Failure_Cause_FEDERATES_CURRENTLY_JOINED;
+const DestroyFederationExecutionResponse_Failure_Cause DestroyFederationExecutionResponse_Failure_Cause_Cause_MAX = DestroyFederationExecutionResponse_Failure_Cause_FEDERATION_EXECUTION_DOES_NOT_EXIST;
+const int DestroyFederationExecutionResponse_Failure_Cause_Cause_ARRAYSIZE = DestroyFederationExecutionResponse_Failure_Cause_Cause_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* DestroyFederationExecutionResponse_Failure_Cause_descriptor();
+inline const ::std::string& DestroyFederationExecutionResponse_Failure_Cause_Name(DestroyFederationExecutionResponse_Failure_Cause value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    DestroyFederationExecutionResponse_Failure_Cause_descriptor(), value);
+}
+inline bool DestroyFederationExecutionResponse_Failure_Cause_Parse(
+    const ::std::string& name, DestroyFederationExecutionResponse_Failure_Cause* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<DestroyFederationExecutionResponse_Failure_Cause>(
+    DestroyFederationExecutionResponse_Failure_Cause_descriptor(), name, value);
+}
+// ===================================================================
+
+class CreateFederationExecutionResponse_Failure : public ::google::protobuf::Message {
+ public:
+  CreateFederationExecutionResponse_Failure();
+  virtual ~CreateFederationExecutionResponse_Failure();
+
+  CreateFederationExecutionResponse_Failure(const CreateFederationExecutionResponse_Failure& from);
+
+  inline CreateFederationExecutionResponse_Failure& operator=(const CreateFederationExecutionResponse_Failure& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const CreateFederationExecutionResponse_Failure& default_instance();
+
+  void Swap(CreateFederationExecutionResponse_Failure* other);
+
+  // implements Message ----------------------------------------------
+
+  CreateFederationExecutionResponse_Failure* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const CreateFederationExecutionResponse_Failure& from);
+  void MergeFrom(const CreateFederationExecutionResponse_Failure& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef CreateFederationExecutionResponse_Failure_Cause Cause;
+  static const Cause FEDERATION_EXECUTION_ALREADY_EXISTS = CreateFederationExecutionResponse_Failure_Cause_FEDERATION_EXECUTION_ALREADY_EXISTS;
+  static const Cause COULD_NOT_CREATE_LOGICAL_TIME_FACTORY = CreateFederationExecutionResponse_Failure_Cause_COULD_NOT_CREATE_LOGICAL_TIME_FACTORY;
+  static inline bool Cause_IsValid(int value) {
+    return CreateFederationExecutionResponse_Failure_Cause_IsValid(value);
+  }
+  static const Cause Cause_MIN =
+    CreateFederationExecutionResponse_Failure_Cause_Cause_MIN;
+  static const Cause Cause_MAX =
+    CreateFederationExecutionResponse_Failure_Cause_Cause_MAX;
+  static const int Cause_ARRAYSIZE =
+    CreateFederationExecutionResponse_Failure_Cause_Cause_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  Cause_descriptor() {
+    return CreateFederationExecutionResponse_Failure_Cause_descriptor();
+  }
+  static inline const ::std::string& Cause_Name(Cause value) {
+    return CreateFederationExecutionResponse_Failure_Cause_Name(value);
+  }
+  static inline bool Cause_Parse(const ::std::string& name,
+      Cause* value) {
+    return CreateFederationExecutionResponse_Failure_Cause_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;
+  inline bool has_cause() const;
+  inline void clear_cause();
+  static const int kCauseFieldNumber = 1;
+  inline ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure_Cause cause() const;
+  inline void set_cause(::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure_Cause value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure)
+ private:
+  inline void set_has_cause();
+  inline void clear_has_cause();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int cause_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_ConnectedMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_ConnectedMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static CreateFederationExecutionResponse_Failure* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class CreateFederationExecutionResponse : public ::google::protobuf::Message {
+ public:
+  CreateFederationExecutionResponse();
+  virtual ~CreateFederationExecutionResponse();
+
+  CreateFederationExecutionResponse(const CreateFederationExecutionResponse& from);
+
+  inline CreateFederationExecutionResponse& operator=(const CreateFederationExecutionResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const CreateFederationExecutionResponse& default_instance();
+
+  void Swap(CreateFederationExecutionResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  CreateFederationExecutionResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const CreateFederationExecutionResponse& from);
+  void MergeFrom(const CreateFederationExecutionResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef CreateFederationExecutionResponse_Failure Failure;
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;
+  inline bool has_failure() const;
+  inline void clear_failure();
+  static const int kFailureFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure& failure() const;
+  inline ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure* mutable_failure();
+  inline ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure* release_failure();
+  inline void set_allocated_failure(::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure* failure);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.CreateFederationExecutionResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_failure();
+  inline void clear_has_failure();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure* failure_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_ConnectedMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_ConnectedMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static CreateFederationExecutionResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class DestroyFederationExecutionResponse_Failure : public ::google::protobuf::Message {
+ public:
+  DestroyFederationExecutionResponse_Failure();
+  virtual ~DestroyFederationExecutionResponse_Failure();
+
+  DestroyFederationExecutionResponse_Failure(const DestroyFederationExecutionResponse_Failure& from);
+
+  inline DestroyFederationExecutionResponse_Failure& operator=(const DestroyFederationExecutionResponse_Failure& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const DestroyFederationExecutionResponse_Failure& default_instance();
+
+  void Swap(DestroyFederationExecutionResponse_Failure* other);
+
+  // implements Message ----------------------------------------------
+
+  DestroyFederationExecutionResponse_Failure* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const DestroyFederationExecutionResponse_Failure& from);
+  void MergeFrom(const DestroyFederationExecutionResponse_Failure& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef DestroyFederationExecutionResponse_Failure_Cause Cause;
+  static const Cause FEDERATES_CURRENTLY_JOINED = DestroyFederationExecutionResponse_Failure_Cause_FEDERATES_CURRENTLY_JOINED;
+  static const Cause FEDERATION_EXECUTION_DOES_NOT_EXIST = DestroyFederationExecutionResponse_Failure_Cause_FEDERATION_EXECUTION_DOES_NOT_EXIST;
+  static inline bool Cause_IsValid(int value) {
+    return DestroyFederationExecutionResponse_Failure_Cause_IsValid(value);
+  }
+  static const Cause Cause_MIN =
+    DestroyFederationExecutionResponse_Failure_Cause_Cause_MIN;
+  static const Cause Cause_MAX =
+    DestroyFederationExecutionResponse_Failure_Cause_Cause_MAX;
+  static const int Cause_ARRAYSIZE =
+    DestroyFederationExecutionResponse_Failure_Cause_Cause_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  Cause_descriptor() {
+    return DestroyFederationExecutionResponse_Failure_Cause_descriptor();
+  }
+  static inline const ::std::string& Cause_Name(Cause value) {
+    return DestroyFederationExecutionResponse_Failure_Cause_Name(value);
+  }
+  static inline bool Cause_Parse(const ::std::string& name,
+      Cause* value) {
+    return DestroyFederationExecutionResponse_Failure_Cause_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;
+  inline bool has_cause() const;
+  inline void clear_cause();
+  static const int kCauseFieldNumber = 1;
+  inline ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure_Cause cause() const;
+  inline void set_cause(::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure_Cause value);
+
+  // repeated string currentlyJoinedFederates = 2;
+  inline int currentlyjoinedfederates_size() const;
+  inline void clear_currentlyjoinedfederates();
+  static const int kCurrentlyJoinedFederatesFieldNumber = 2;
+  inline const ::std::string& currentlyjoinedfederates(int index) const;
+  inline ::std::string* mutable_currentlyjoinedfederates(int index);
+  inline void set_currentlyjoinedfederates(int index, const ::std::string& value);
+  inline void set_currentlyjoinedfederates(int index, const char* value);
+  inline void set_currentlyjoinedfederates(int index, const char* value, size_t size);
+  inline ::std::string* add_currentlyjoinedfederates();
+  inline void add_currentlyjoinedfederates(const ::std::string& value);
+  inline void add_currentlyjoinedfederates(const char* value);
+  inline void add_currentlyjoinedfederates(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& currentlyjoinedfederates() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_currentlyjoinedfederates();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure)
+ private:
+  inline void set_has_cause();
+  inline void clear_has_cause();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::std::string> currentlyjoinedfederates_;
+  int cause_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_ConnectedMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_ConnectedMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static DestroyFederationExecutionResponse_Failure* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class DestroyFederationExecutionResponse : public ::google::protobuf::Message {
+ public:
+  DestroyFederationExecutionResponse();
+  virtual ~DestroyFederationExecutionResponse();
+
+  DestroyFederationExecutionResponse(const DestroyFederationExecutionResponse& from);
+
+  inline DestroyFederationExecutionResponse& operator=(const DestroyFederationExecutionResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const DestroyFederationExecutionResponse& default_instance();
+
+  void Swap(DestroyFederationExecutionResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  DestroyFederationExecutionResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const DestroyFederationExecutionResponse& from);
+  void MergeFrom(const DestroyFederationExecutionResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef DestroyFederationExecutionResponse_Failure Failure;
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;
+  inline bool has_failure() const;
+  inline void clear_failure();
+  static const int kFailureFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure& failure() const;
+  inline ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure* mutable_failure();
+  inline ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure* release_failure();
+  inline void set_allocated_failure(::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure* failure);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.DestroyFederationExecutionResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_failure();
+  inline void clear_has_failure();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure* failure_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_ConnectedMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_ConnectedMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static DestroyFederationExecutionResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ReportFederationExecutions_FederationExecutionInformation : public ::google::protobuf::Message {
+ public:
+  ReportFederationExecutions_FederationExecutionInformation();
+  virtual ~ReportFederationExecutions_FederationExecutionInformation();
+
+  ReportFederationExecutions_FederationExecutionInformation(const ReportFederationExecutions_FederationExecutionInformation& from);
+
+  inline ReportFederationExecutions_FederationExecutionInformation& operator=(const ReportFederationExecutions_FederationExecutionInformation& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ReportFederationExecutions_FederationExecutionInformation& default_instance();
+
+  void Swap(ReportFederationExecutions_FederationExecutionInformation* other);
+
+  // implements Message ----------------------------------------------
+
+  ReportFederationExecutions_FederationExecutionInformation* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ReportFederationExecutions_FederationExecutionInformation& from);
+  void MergeFrom(const ReportFederationExecutions_FederationExecutionInformation& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string federationExecutionName = 1;
+  inline bool has_federationexecutionname() const;
+  inline void clear_federationexecutionname();
+  static const int kFederationExecutionNameFieldNumber = 1;
+  inline const ::std::string& federationexecutionname() const;
+  inline void set_federationexecutionname(const ::std::string& value);
+  inline void set_federationexecutionname(const char* value);
+  inline void set_federationexecutionname(const char* value, size_t size);
+  inline ::std::string* mutable_federationexecutionname();
+  inline ::std::string* release_federationexecutionname();
+  inline void set_allocated_federationexecutionname(::std::string* federationexecutionname);
+
+  // required string logicalTimeImplementationName = 2;
+  inline bool has_logicaltimeimplementationname() const;
+  inline void clear_logicaltimeimplementationname();
+  static const int kLogicalTimeImplementationNameFieldNumber = 2;
+  inline const ::std::string& logicaltimeimplementationname() const;
+  inline void set_logicaltimeimplementationname(const ::std::string& value);
+  inline void set_logicaltimeimplementationname(const char* value);
+  inline void set_logicaltimeimplementationname(const char* value, size_t size);
+  inline ::std::string* mutable_logicaltimeimplementationname();
+  inline ::std::string* release_logicaltimeimplementationname();
+  inline void set_allocated_logicaltimeimplementationname(::std::string* logicaltimeimplementationname);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation)
+ private:
+  inline void set_has_federationexecutionname();
+  inline void clear_has_federationexecutionname();
+  inline void set_has_logicaltimeimplementationname();
+  inline void clear_has_logicaltimeimplementationname();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* federationexecutionname_;
+  ::std::string* logicaltimeimplementationname_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_ConnectedMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_ConnectedMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ReportFederationExecutions_FederationExecutionInformation* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ReportFederationExecutions : public ::google::protobuf::Message {
+ public:
+  ReportFederationExecutions();
+  virtual ~ReportFederationExecutions();
+
+  ReportFederationExecutions(const ReportFederationExecutions& from);
+
+  inline ReportFederationExecutions& operator=(const ReportFederationExecutions& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ReportFederationExecutions& default_instance();
+
+  void Swap(ReportFederationExecutions* other);
+
+  // implements Message ----------------------------------------------
+
+  ReportFederationExecutions* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ReportFederationExecutions& from);
+  void MergeFrom(const ReportFederationExecutions& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef ReportFederationExecutions_FederationExecutionInformation FederationExecutionInformation;
+
+  // accessors -------------------------------------------------------
+
+  // repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;
+  inline int federationexecutioninformations_size() const;
+  inline void clear_federationexecutioninformations();
+  static const int kFederationExecutionInformationsFieldNumber = 1;
+  inline const ::ohla::rti::messages::proto::ReportFederationExecutions_FederationExecutionInformation& federationexecutioninformations(int index) const;
+  inline ::ohla::rti::messages::proto::ReportFederationExecutions_FederationExecutionInformation* mutable_federationexecutioninformations(int index);
+  inline ::ohla::rti::messages::proto::ReportFederationExecutions_FederationExecutionInformation* add_federationexecutioninformations();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ReportFederationExecutions_FederationExecutionInformation >&
+      federationexecutioninformations() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ReportFederationExecutions_FederationExecutionInformation >*
+      mutable_federationexecutioninformations();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ReportFederationExecutions)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ReportFederationExecutions_FederationExecutionInformation > federationexecutioninformations_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_ConnectedMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_ConnectedMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_ConnectedMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ReportFederationExecutions* default_instance_;
+};
+// ===================================================================
+
+
+// ===================================================================
+
+// CreateFederationExecutionResponse_Failure
+
+// required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;
+inline bool CreateFederationExecutionResponse_Failure::has_cause() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void CreateFederationExecutionResponse_Failure::set_has_cause() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void CreateFederationExecutionResponse_Failure::clear_has_cause() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void CreateFederationExecutionResponse_Failure::clear_cause() {
+  cause_ = 1;
+  clear_has_cause();
+}
+inline ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure_Cause CreateFederationExecutionResponse_Failure::cause() const {
+  return static_cast< ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure_Cause >(cause_);
+}
+inline void CreateFederationExecutionResponse_Failure::set_cause(::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure_Cause value) {
+  assert(::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure_Cause_IsValid(value));
+  set_has_cause();
+  cause_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// CreateFederationExecutionResponse
+
+// required uint64 requestId = 1;
+inline bool CreateFederationExecutionResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void CreateFederationExecutionResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void CreateFederationExecutionResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void CreateFederationExecutionResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 CreateFederationExecutionResponse::requestid() const {
+  return requestid_;
+}
+inline void CreateFederationExecutionResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;
+inline bool CreateFederationExecutionResponse::has_failure() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void CreateFederationExecutionResponse::set_has_failure() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void CreateFederationExecutionResponse::clear_has_failure() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void CreateFederationExecutionResponse::clear_failure() {
+  if (failure_ != NULL) failure_->::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure::Clear();
+  clear_has_failure();
+}
+inline const ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure& CreateFederationExecutionResponse::failure() const {
+  return failure_ != NULL ? *failure_ : *default_instance_->failure_;
+}
+inline ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure* CreateFederationExecutionResponse::mutable_failure() {
+  set_has_failure();
+  if (failure_ == NULL) failure_ = new ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure;
+  return failure_;
+}
+inline ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure* CreateFederationExecutionResponse::release_failure() {
+  clear_has_failure();
+  ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure* temp = failure_;
+  failure_ = NULL;
+  return temp;
+}
+inline void CreateFederationExecutionResponse::set_allocated_failure(::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure* failure) {
+  delete failure_;
+  failure_ = failure;
+  if (failure) {
+    set_has_failure();
+  } else {
+    clear_has_failure();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// DestroyFederationExecutionResponse_Failure
+
+// required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;
+inline bool DestroyFederationExecutionResponse_Failure::has_cause() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void DestroyFederationExecutionResponse_Failure::set_has_cause() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void DestroyFederationExecutionResponse_Failure::clear_has_cause() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void DestroyFederationExecutionResponse_Failure::clear_cause() {
+  cause_ = 1;
+  clear_has_cause();
+}
+inline ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure_Cause DestroyFederationExecutionResponse_Failure::cause() const {
+  return static_cast< ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure_Cause >(cause_);
+}
+inline void DestroyFederationExecutionResponse_Failure::set_cause(::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure_Cause value) {
+  assert(::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure_Cause_IsValid(value));
+  set_has_cause();
+  cause_ = value;
+}
+
+// repeated string currentlyJoinedFederates = 2;
+inline int DestroyFederationExecutionResponse_Failure::currentlyjoinedfederates_size() const {
+  return currentlyjoinedfederates_.size();
+}
+inline void DestroyFederationExecutionResponse_Failure::clear_currentlyjoinedfederates() {
+  currentlyjoinedfederates_.Clear();
+}
+inline const ::std::string& DestroyFederationExecutionResponse_Failure::currentlyjoinedfederates(int index) const {
+  return currentlyjoinedfederates_.Get(index);
+}
+inline ::std::string* DestroyFederationExecutionResponse_Failure::mutable_currentlyjoinedfederates(int index) {
+  return currentlyjoinedfederates_.Mutable(index);
+}
+inline void DestroyFederationExecutionResponse_Failure::set_currentlyjoinedfederates(int index, const ::std::string& value) {
+  currentlyjoinedfederates_.Mutable(index)->assign(value);
+}
+inline void DestroyFederationExecutionResponse_Failure::set_currentlyjoinedfederates(int index, const char* value) {
+  currentlyjoinedfederates_.Mutable(index)->assign(value);
+}
+inline void DestroyFederationExecutionResponse_Failure::set_currentlyjoinedfederates(int index, const char* value, size_t size) {
+  currentlyjoinedfederates_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* DestroyFederationExecutionResponse_Failure::add_currentlyjoinedfederates() {
+  return currentlyjoinedfederates_.Add();
+}
+inline void DestroyFederationExecutionResponse_Failure::add_currentlyjoinedfederates(const ::std::string& value) {
+  currentlyjoinedfederates_.Add()->assign(value);
+}
+inline void DestroyFederationExecutionResponse_Failure::add_currentlyjoinedfederates(const char* value) {
+  currentlyjoinedfederates_.Add()->assign(value);
+}
+inline void DestroyFederationExecutionResponse_Failure::add_currentlyjoinedfederates(const char* value, size_t size) {
+  currentlyjoinedfederates_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+DestroyFederationExecutionResponse_Failure::currentlyjoinedfederates() const {
+  return currentlyjoinedfederates_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+DestroyFederationExecutionResponse_Failure::mutable_currentlyjoinedfederates() {
+  return &currentlyjoinedfederates_;
+}
+
+// -------------------------------------------------------------------
+
+// DestroyFederationExecutionResponse
+
+// required uint64 requestId = 1;
+inline bool DestroyFederationExecutionResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void DestroyFederationExecutionResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void DestroyFederationExecutionResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void DestroyFederationExecutionResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 DestroyFederationExecutionResponse::requestid() const {
+  return requestid_;
+}
+inline void DestroyFederationExecutionResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;
+inline bool DestroyFederationExecutionResponse::has_failure() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void DestroyFederationExecutionResponse::set_has_failure() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void DestroyFederationExecutionResponse::clear_has_failure() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void DestroyFederationExecutionResponse::clear_failure() {
+  if (failure_ != NULL) failure_->::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure::Clear();
+  clear_has_failure();
+}
+inline const ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure& DestroyFederationExecutionResponse::failure() const {
+  return failure_ != NULL ? *failure_ : *default_instance_->failure_;
+}
+inline ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure* DestroyFederationExecutionResponse::mutable_failure() {
+  set_has_failure();
+  if (failure_ == NULL) failure_ = new ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure;
+  return failure_;
+}
+inline ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure* DestroyFederationExecutionResponse::release_failure() {
+  clear_has_failure();
+  ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure* temp = failure_;
+  failure_ = NULL;
+  return temp;
+}
+inline void DestroyFederationExecutionResponse::set_allocated_failure(::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure* failure) {
+  delete failure_;
+  failure_ = failure;
+  if (failure) {
+    set_has_failure();
+  } else {
+    clear_has_failure();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// ReportFederationExecutions_FederationExecutionInformation
+
+// required string federationExecutionName = 1;
+inline bool ReportFederationExecutions_FederationExecutionInformation::has_federationexecutionname() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ReportFederationExecutions_FederationExecutionInformation::set_has_federationexecutionname() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ReportFederationExecutions_FederationExecutionInformation::clear_has_federationexecutionname() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ReportFederationExecutions_FederationExecutionInformation::clear_federationexecutionname() {
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_->clear();
+  }
+  clear_has_federationexecutionname();
+}
+inline const ::std::string& ReportFederationExecutions_FederationExecutionInformation::federationexecutionname() const {
+  return *federationexecutionname_;
+}
+inline void ReportFederationExecutions_FederationExecutionInformation::set_federationexecutionname(const ::std::string& value) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(value);
+}
+inline void ReportFederationExecutions_FederationExecutionInformation::set_federationexecutionname(const char* value) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(value);
+}
+inline void ReportFederationExecutions_FederationExecutionInformation::set_federationexecutionname(const char* value, size_t size) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ReportFederationExecutions_FederationExecutionInformation::mutable_federationexecutionname() {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  return federationexecutionname_;
+}
+inline ::std::string* ReportFederationExecutions_FederationExecutionInformation::release_federationexecutionname() {
+  clear_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federationexecutionname_;
+    federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void ReportFederationExecutions_FederationExecutionInformation::set_allocated_federationexecutionname(::std::string* federationexecutionname) {
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    delete federationexecutionname_;
+  }
+  if (federationexecutionname) {
+    set_has_federationexecutionname();
+    federationexecutionname_ = federationexecutionname;
+  } else {
+    clear_has_federationexecutionname();
+    federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required string logicalTimeImplementationName = 2;
+inline bool ReportFederationExecutions_FederationExecutionInformation::has_logicaltimeimplementationname() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void ReportFederationExecutions_FederationExecutionInformation::set_has_logicaltimeimplementationname() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void ReportFederationExecutions_FederationExecutionInformation::clear_has_logicaltimeimplementationname() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void ReportFederationExecutions_FederationExecutionInformation::clear_logicaltimeimplementationname() {
+  if (logicaltimeimplementationname_ != &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_->clear();
+  }
+  clear_has_logicaltimeimplementationname();
+}
+inline const ::std::string& ReportFederationExecutions_FederationExecutionInformation::logicaltimeimplementationname() const {
+  return *logicaltimeimplementationname_;
+}
+inline void ReportFederationExecutions_FederationExecutionInformation::set_logicaltimeimplementationname(const ::std::string& value) {
+  set_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_ = new ::std::string;
+  }
+  logicaltimeimplementationname_->assign(value);
+}
+inline void ReportFederationExecutions_FederationExecutionInformation::set_logicaltimeimplementationname(const char* value) {
+  set_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_ = new ::std::string;
+  }
+  logicaltimeimplementationname_->assign(value);
+}
+inline void ReportFederationExecutions_FederationExecutionInformation::set_logicaltimeimplementationname(const char* value, size_t size) {
+  set_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_ = new ::std::string;
+  }
+  logicaltimeimplementationname_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ReportFederationExecutions_FederationExecutionInformation::mutable_logicaltimeimplementationname() {
+  set_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_ = new ::std::string;
+  }
+  return logicaltimeimplementationname_;
+}
+inline ::std::string* ReportFederationExecutions_FederationExecutionInformation::release_logicaltimeimplementationname() {
+  clear_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = logicaltimeimplementationname_;
+    logicaltimeimplementationname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void ReportFederationExecutions_FederationExecutionInformation::set_allocated_logicaltimeimplementationname(::std::string* logicaltimeimplementationname) {
+  if (logicaltimeimplementationname_ != &::google::protobuf::internal::kEmptyString) {
+    delete logicaltimeimplementationname_;
+  }
+  if (logicaltimeimplementationname) {
+    set_has_logicaltimeimplementationname();
+    logicaltimeimplementationname_ = logicaltimeimplementationname;
+  } else {
+    clear_has_logicaltimeimplementationname();
+    logicaltimeimplementationname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// ReportFederationExecutions
+
+// repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;
+inline int ReportFederationExecutions::federationexecutioninformations_size() const {
+  return federationexecutioninformations_.size();
+}
+inline void ReportFederationExecutions::clear_federationexecutioninformations() {
+  federationexecutioninformations_.Clear();
+}
+inline const ::ohla::rti::messages::proto::ReportFederationExecutions_FederationExecutionInformation& ReportFederationExecutions::federationexecutioninformations(int index) const {
+  return federationexecutioninformations_.Get(index);
+}
+inline ::ohla::rti::messages::proto::ReportFederationExecutions_FederationExecutionInformation* ReportFederationExecutions::mutable_federationexecutioninformations(int index) {
+  return federationexecutioninformations_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::ReportFederationExecutions_FederationExecutionInformation* ReportFederationExecutions::add_federationexecutioninformations() {
+  return federationexecutioninformations_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ReportFederationExecutions_FederationExecutionInformation >&
+ReportFederationExecutions::federationexecutioninformations() const {
+  return federationexecutioninformations_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ReportFederationExecutions_FederationExecutionInformation >*
+ReportFederationExecutions::mutable_federationexecutioninformations() {
+  return &federationexecutioninformations_;
+}
+
+
+// @@protoc_insertion_point(namespace_scope)
+
+}  // namespace proto
+}  // namespace messages
+}  // namespace rti
+}  // namespace ohla
+
+#ifndef SWIG
+namespace google {
+namespace protobuf {
+
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure_Cause>() {
+  return ::ohla::rti::messages::proto::CreateFederationExecutionResponse_Failure_Cause_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure_Cause>() {
+  return ::ohla::rti::messages::proto::DestroyFederationExecutionResponse_Failure_Cause_descriptor();
+}
+
+}  // namespace google
+}  // namespace protobuf
+#endif  // SWIG
+
+// @@protoc_insertion_point(global_scope)
+
+#endif  // PROTOBUF_ConnectedMessageProtos_2eproto__INCLUDED
@@ -0,0 +1,23288 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: FederateMessageProtos.proto
+
+#define INTERNAL_SUPPRESS_PROTOBUF_FIELD_DEPRECATION
+#include "FederateMessageProtos.pb.h"
+
+#include <algorithm>
+
+#include <google/protobuf/stubs/common.h>
+#include <google/protobuf/stubs/once.h>
+#include <google/protobuf/io/coded_stream.h>
+#include <google/protobuf/wire_format_lite_inl.h>
+#include <google/protobuf/descriptor.h>
+#include <google/protobuf/generated_message_reflection.h>
+#include <google/protobuf/reflection_ops.h>
+#include <google/protobuf/wire_format.h>
+// @@protoc_insertion_point(includes)
+
+namespace ohla {
+namespace rti {
+namespace messages {
+namespace proto {
+
+namespace {
+
+const ::google::protobuf::Descriptor* FDDUpdated_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FDDUpdated_reflection_ = NULL;
+const ::google::protobuf::Descriptor* JoinFederationExecutionResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  JoinFederationExecutionResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* JoinFederationExecutionResponse_Success_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  JoinFederationExecutionResponse_Success_reflection_ = NULL;
+const ::google::protobuf::Descriptor* JoinFederationExecutionResponse_Failure_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  JoinFederationExecutionResponse_Failure_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* JoinFederationExecutionResponse_Failure_Cause_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* RequestFederationSaveResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestFederationSaveResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RequestFederationSaveResponse_Failure_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestFederationSaveResponse_Failure_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* RequestFederationSaveResponse_Failure_Cause_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* AbortFederationSaveResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AbortFederationSaveResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AbortFederationSaveResponse_Failure_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AbortFederationSaveResponse_Failure_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* AbortFederationSaveResponse_Failure_Cause_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* RequestFederationRestoreResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestFederationRestoreResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RequestFederationRestoreResponse_Failure_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestFederationRestoreResponse_Failure_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* RequestFederationRestoreResponse_Failure_Cause_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* AbortFederationRestoreResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AbortFederationRestoreResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AbortFederationRestoreResponse_Failure_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AbortFederationRestoreResponse_Failure_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* AbortFederationRestoreResponse_Failure_Cause_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* ObjectInstanceNameReservationSucceeded_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ObjectInstanceNameReservationSucceeded_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ObjectInstanceNameReservationFailed_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ObjectInstanceNameReservationFailed_reflection_ = NULL;
+const ::google::protobuf::Descriptor* MultipleObjectInstanceNameReservationSucceeded_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  MultipleObjectInstanceNameReservationSucceeded_reflection_ = NULL;
+const ::google::protobuf::Descriptor* MultipleObjectInstanceNameReservationFailed_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  MultipleObjectInstanceNameReservationFailed_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ReportInteractionTransportationType_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ReportInteractionTransportationType_reflection_ = NULL;
+const ::google::protobuf::Descriptor* GetFederateHandleResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  GetFederateHandleResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* GetFederateHandleResponse_Success_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  GetFederateHandleResponse_Success_reflection_ = NULL;
+const ::google::protobuf::Descriptor* GetFederateHandleResponse_Failure_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  GetFederateHandleResponse_Failure_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* GetFederateHandleResponse_Failure_Cause_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* GetFederateNameResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  GetFederateNameResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* GetFederateNameResponse_Success_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  GetFederateNameResponse_Success_reflection_ = NULL;
+const ::google::protobuf::Descriptor* GetFederateNameResponse_Failure_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  GetFederateNameResponse_Failure_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* GetFederateNameResponse_Failure_Cause_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* GetUpdateRateValueForAttributeResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  GetUpdateRateValueForAttributeResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* GetUpdateRateValueForAttributeResponse_Success_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  GetUpdateRateValueForAttributeResponse_Success_reflection_ = NULL;
+const ::google::protobuf::Descriptor* GetUpdateRateValueForAttributeResponse_Failure_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  GetUpdateRateValueForAttributeResponse_Failure_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* GetUpdateRateValueForAttributeResponse_Failure_Cause_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* AttributeOwnershipDivestitureIfWantedResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AttributeOwnershipDivestitureIfWantedResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* QueryGALTResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  QueryGALTResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* QueryLITSResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  QueryLITSResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RetractResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RetractResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RetractResponse_Failure_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RetractResponse_Failure_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* RetractResponse_Failure_Cause_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* AssociateRegionsForUpdatesResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AssociateRegionsForUpdatesResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AssociateRegionsForUpdatesResponse_Failure_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AssociateRegionsForUpdatesResponse_Failure_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* AssociateRegionsForUpdatesResponse_Failure_Cause_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* UnassociateRegionsForUpdatesResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  UnassociateRegionsForUpdatesResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* UnassociateRegionsForUpdatesResponse_Failure_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  UnassociateRegionsForUpdatesResponse_Failure_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* UnassociateRegionsForUpdatesResponse_Failure_Cause_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* SynchronizationPointRegistrationSucceeded_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  SynchronizationPointRegistrationSucceeded_reflection_ = NULL;
+const ::google::protobuf::Descriptor* SynchronizationPointRegistrationFailed_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  SynchronizationPointRegistrationFailed_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AnnounceSynchronizationPoint_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AnnounceSynchronizationPoint_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationSynchronized_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationSynchronized_reflection_ = NULL;
+const ::google::protobuf::Descriptor* InitiateFederateSave_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  InitiateFederateSave_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationSaved_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationSaved_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationNotSaved_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationNotSaved_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateSaveStatus_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateSaveStatus_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationSaveStatusResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationSaveStatusResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RequestFederationRestoreSucceeded_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestFederationRestoreSucceeded_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RequestFederationRestoreFailed_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestFederationRestoreFailed_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationRestoreBegun_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationRestoreBegun_reflection_ = NULL;
+const ::google::protobuf::Descriptor* InitiateFederateRestore_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  InitiateFederateRestore_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationRestored_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationRestored_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationNotRestored_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationNotRestored_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateRestoreStatus_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateRestoreStatus_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationRestoreStatusResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationRestoreStatusResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* StartRegistrationForObjectClass_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  StartRegistrationForObjectClass_reflection_ = NULL;
+const ::google::protobuf::Descriptor* StopRegistrationForObjectClass_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  StopRegistrationForObjectClass_reflection_ = NULL;
+const ::google::protobuf::Descriptor* TurnInteractionsOn_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  TurnInteractionsOn_reflection_ = NULL;
+const ::google::protobuf::Descriptor* TurnInteractionsOff_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  TurnInteractionsOff_reflection_ = NULL;
+const ::google::protobuf::Descriptor* DiscoverObjectInstance_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  DiscoverObjectInstance_reflection_ = NULL;
+const ::google::protobuf::Descriptor* Region_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  Region_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ReflectAttributeValues_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ReflectAttributeValues_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RemoveObjectInstance_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RemoveObjectInstance_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AttributesInScope_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AttributesInScope_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AttributesOutOfScope_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AttributesOutOfScope_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ProvideAttributeValueUpdate_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ProvideAttributeValueUpdate_reflection_ = NULL;
+const ::google::protobuf::Descriptor* TurnUpdatesOnForObjectInstance_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  TurnUpdatesOnForObjectInstance_reflection_ = NULL;
+const ::google::protobuf::Descriptor* TurnUpdatesOffForObjectInstance_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  TurnUpdatesOffForObjectInstance_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ReceiveInteraction_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ReceiveInteraction_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RequestAttributeOwnershipAssumption_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestAttributeOwnershipAssumption_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RequestDivestitureConfirmation_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestDivestitureConfirmation_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AttributeOwnershipAcquisitionNotification_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AttributeOwnershipAcquisitionNotification_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AttributeOwnershipUnavailable_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AttributeOwnershipUnavailable_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RequestAttributeOwnershipRelease_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestAttributeOwnershipRelease_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ConfirmAttributeOwnershipAcquisitionCancellation_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ConfirmAttributeOwnershipAcquisitionCancellation_reflection_ = NULL;
+const ::google::protobuf::Descriptor* InformAttributeOwnership_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  InformAttributeOwnership_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AttributeIsNotOwned_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AttributeIsNotOwned_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AttributeIsOwnedByRTI_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AttributeIsOwnedByRTI_reflection_ = NULL;
+const ::google::protobuf::Descriptor* TimeRegulationEnabled_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  TimeRegulationEnabled_reflection_ = NULL;
+const ::google::protobuf::Descriptor* TimeConstrainedEnabled_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  TimeConstrainedEnabled_reflection_ = NULL;
+const ::google::protobuf::Descriptor* TimeAdvanceGrant_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  TimeAdvanceGrant_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RequestRetraction_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestRetraction_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ResignedFederationExecution_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ResignedFederationExecution_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* SynchronizationPointFailureReason_descriptor_ = NULL;
+const ::google::protobuf::EnumDescriptor* SaveFailureReason_descriptor_ = NULL;
+const ::google::protobuf::EnumDescriptor* SaveStatus_descriptor_ = NULL;
+const ::google::protobuf::EnumDescriptor* RestoreFailureReason_descriptor_ = NULL;
+const ::google::protobuf::EnumDescriptor* RestoreStatus_descriptor_ = NULL;
+
+}  // namespace
+
+
+void protobuf_AssignDesc_FederateMessageProtos_2eproto() {
+  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  const ::google::protobuf::FileDescriptor* file =
+    ::google::protobuf::DescriptorPool::generated_pool()->FindFileByName(
+      "FederateMessageProtos.proto");
+  GOOGLE_CHECK(file != NULL);
+  FDDUpdated_descriptor_ = file->message_type(0);
+  static const int FDDUpdated_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDDUpdated, fdd_),
+  };
+  FDDUpdated_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FDDUpdated_descriptor_,
+      FDDUpdated::default_instance_,
+      FDDUpdated_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDDUpdated, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDDUpdated, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FDDUpdated));
+  JoinFederationExecutionResponse_descriptor_ = file->message_type(1);
+  static const int JoinFederationExecutionResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecutionResponse, success_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecutionResponse, failure_),
+  };
+  JoinFederationExecutionResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      JoinFederationExecutionResponse_descriptor_,
+      JoinFederationExecutionResponse::default_instance_,
+      JoinFederationExecutionResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecutionResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecutionResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(JoinFederationExecutionResponse));
+  JoinFederationExecutionResponse_Success_descriptor_ = JoinFederationExecutionResponse_descriptor_->nested_type(0);
+  static const int JoinFederationExecutionResponse_Success_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecutionResponse_Success, federatename_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecutionResponse_Success, federatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecutionResponse_Success, fdd_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecutionResponse_Success, logicaltimeimplementationname_),
+  };
+  JoinFederationExecutionResponse_Success_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      JoinFederationExecutionResponse_Success_descriptor_,
+      JoinFederationExecutionResponse_Success::default_instance_,
+      JoinFederationExecutionResponse_Success_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecutionResponse_Success, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecutionResponse_Success, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(JoinFederationExecutionResponse_Success));
+  JoinFederationExecutionResponse_Failure_descriptor_ = JoinFederationExecutionResponse_descriptor_->nested_type(1);
+  static const int JoinFederationExecutionResponse_Failure_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecutionResponse_Failure, cause_),
+  };
+  JoinFederationExecutionResponse_Failure_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      JoinFederationExecutionResponse_Failure_descriptor_,
+      JoinFederationExecutionResponse_Failure::default_instance_,
+      JoinFederationExecutionResponse_Failure_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecutionResponse_Failure, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecutionResponse_Failure, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(JoinFederationExecutionResponse_Failure));
+  JoinFederationExecutionResponse_Failure_Cause_descriptor_ = JoinFederationExecutionResponse_Failure_descriptor_->enum_type(0);
+  RequestFederationSaveResponse_descriptor_ = file->message_type(2);
+  static const int RequestFederationSaveResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationSaveResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationSaveResponse, failure_),
+  };
+  RequestFederationSaveResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestFederationSaveResponse_descriptor_,
+      RequestFederationSaveResponse::default_instance_,
+      RequestFederationSaveResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationSaveResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationSaveResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestFederationSaveResponse));
+  RequestFederationSaveResponse_Failure_descriptor_ = RequestFederationSaveResponse_descriptor_->nested_type(0);
+  static const int RequestFederationSaveResponse_Failure_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationSaveResponse_Failure, cause_),
+  };
+  RequestFederationSaveResponse_Failure_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestFederationSaveResponse_Failure_descriptor_,
+      RequestFederationSaveResponse_Failure::default_instance_,
+      RequestFederationSaveResponse_Failure_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationSaveResponse_Failure, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationSaveResponse_Failure, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestFederationSaveResponse_Failure));
+  RequestFederationSaveResponse_Failure_Cause_descriptor_ = RequestFederationSaveResponse_Failure_descriptor_->enum_type(0);
+  AbortFederationSaveResponse_descriptor_ = file->message_type(3);
+  static const int AbortFederationSaveResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationSaveResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationSaveResponse, failure_),
+  };
+  AbortFederationSaveResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AbortFederationSaveResponse_descriptor_,
+      AbortFederationSaveResponse::default_instance_,
+      AbortFederationSaveResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationSaveResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationSaveResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AbortFederationSaveResponse));
+  AbortFederationSaveResponse_Failure_descriptor_ = AbortFederationSaveResponse_descriptor_->nested_type(0);
+  static const int AbortFederationSaveResponse_Failure_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationSaveResponse_Failure, cause_),
+  };
+  AbortFederationSaveResponse_Failure_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AbortFederationSaveResponse_Failure_descriptor_,
+      AbortFederationSaveResponse_Failure::default_instance_,
+      AbortFederationSaveResponse_Failure_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationSaveResponse_Failure, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationSaveResponse_Failure, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AbortFederationSaveResponse_Failure));
+  AbortFederationSaveResponse_Failure_Cause_descriptor_ = AbortFederationSaveResponse_Failure_descriptor_->enum_type(0);
+  RequestFederationRestoreResponse_descriptor_ = file->message_type(4);
+  static const int RequestFederationRestoreResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestoreResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestoreResponse, failure_),
+  };
+  RequestFederationRestoreResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestFederationRestoreResponse_descriptor_,
+      RequestFederationRestoreResponse::default_instance_,
+      RequestFederationRestoreResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestoreResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestoreResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestFederationRestoreResponse));
+  RequestFederationRestoreResponse_Failure_descriptor_ = RequestFederationRestoreResponse_descriptor_->nested_type(0);
+  static const int RequestFederationRestoreResponse_Failure_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestoreResponse_Failure, cause_),
+  };
+  RequestFederationRestoreResponse_Failure_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestFederationRestoreResponse_Failure_descriptor_,
+      RequestFederationRestoreResponse_Failure::default_instance_,
+      RequestFederationRestoreResponse_Failure_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestoreResponse_Failure, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestoreResponse_Failure, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestFederationRestoreResponse_Failure));
+  RequestFederationRestoreResponse_Failure_Cause_descriptor_ = RequestFederationRestoreResponse_Failure_descriptor_->enum_type(0);
+  AbortFederationRestoreResponse_descriptor_ = file->message_type(5);
+  static const int AbortFederationRestoreResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationRestoreResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationRestoreResponse, failure_),
+  };
+  AbortFederationRestoreResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AbortFederationRestoreResponse_descriptor_,
+      AbortFederationRestoreResponse::default_instance_,
+      AbortFederationRestoreResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationRestoreResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationRestoreResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AbortFederationRestoreResponse));
+  AbortFederationRestoreResponse_Failure_descriptor_ = AbortFederationRestoreResponse_descriptor_->nested_type(0);
+  static const int AbortFederationRestoreResponse_Failure_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationRestoreResponse_Failure, cause_),
+  };
+  AbortFederationRestoreResponse_Failure_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AbortFederationRestoreResponse_Failure_descriptor_,
+      AbortFederationRestoreResponse_Failure::default_instance_,
+      AbortFederationRestoreResponse_Failure_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationRestoreResponse_Failure, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationRestoreResponse_Failure, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AbortFederationRestoreResponse_Failure));
+  AbortFederationRestoreResponse_Failure_Cause_descriptor_ = AbortFederationRestoreResponse_Failure_descriptor_->enum_type(0);
+  ObjectInstanceNameReservationSucceeded_descriptor_ = file->message_type(6);
+  static const int ObjectInstanceNameReservationSucceeded_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectInstanceNameReservationSucceeded, objectinstancename_),
+  };
+  ObjectInstanceNameReservationSucceeded_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ObjectInstanceNameReservationSucceeded_descriptor_,
+      ObjectInstanceNameReservationSucceeded::default_instance_,
+      ObjectInstanceNameReservationSucceeded_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectInstanceNameReservationSucceeded, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectInstanceNameReservationSucceeded, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ObjectInstanceNameReservationSucceeded));
+  ObjectInstanceNameReservationFailed_descriptor_ = file->message_type(7);
+  static const int ObjectInstanceNameReservationFailed_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectInstanceNameReservationFailed, objectinstancename_),
+  };
+  ObjectInstanceNameReservationFailed_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ObjectInstanceNameReservationFailed_descriptor_,
+      ObjectInstanceNameReservationFailed::default_instance_,
+      ObjectInstanceNameReservationFailed_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectInstanceNameReservationFailed, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectInstanceNameReservationFailed, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ObjectInstanceNameReservationFailed));
+  MultipleObjectInstanceNameReservationSucceeded_descriptor_ = file->message_type(8);
+  static const int MultipleObjectInstanceNameReservationSucceeded_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MultipleObjectInstanceNameReservationSucceeded, objectinstancenames_),
+  };
+  MultipleObjectInstanceNameReservationSucceeded_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      MultipleObjectInstanceNameReservationSucceeded_descriptor_,
+      MultipleObjectInstanceNameReservationSucceeded::default_instance_,
+      MultipleObjectInstanceNameReservationSucceeded_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MultipleObjectInstanceNameReservationSucceeded, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MultipleObjectInstanceNameReservationSucceeded, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(MultipleObjectInstanceNameReservationSucceeded));
+  MultipleObjectInstanceNameReservationFailed_descriptor_ = file->message_type(9);
+  static const int MultipleObjectInstanceNameReservationFailed_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MultipleObjectInstanceNameReservationFailed, objectinstancenames_),
+  };
+  MultipleObjectInstanceNameReservationFailed_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      MultipleObjectInstanceNameReservationFailed_descriptor_,
+      MultipleObjectInstanceNameReservationFailed::default_instance_,
+      MultipleObjectInstanceNameReservationFailed_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MultipleObjectInstanceNameReservationFailed, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MultipleObjectInstanceNameReservationFailed, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(MultipleObjectInstanceNameReservationFailed));
+  ReportInteractionTransportationType_descriptor_ = file->message_type(10);
+  static const int ReportInteractionTransportationType_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReportInteractionTransportationType, interactionclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReportInteractionTransportationType, federatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReportInteractionTransportationType, transportationtypehandle_),
+  };
+  ReportInteractionTransportationType_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ReportInteractionTransportationType_descriptor_,
+      ReportInteractionTransportationType::default_instance_,
+      ReportInteractionTransportationType_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReportInteractionTransportationType, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReportInteractionTransportationType, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ReportInteractionTransportationType));
+  GetFederateHandleResponse_descriptor_ = file->message_type(11);
+  static const int GetFederateHandleResponse_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandleResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandleResponse, success_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandleResponse, failure_),
+  };
+  GetFederateHandleResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      GetFederateHandleResponse_descriptor_,
+      GetFederateHandleResponse::default_instance_,
+      GetFederateHandleResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandleResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandleResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(GetFederateHandleResponse));
+  GetFederateHandleResponse_Success_descriptor_ = GetFederateHandleResponse_descriptor_->nested_type(0);
+  static const int GetFederateHandleResponse_Success_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandleResponse_Success, federatehandle_),
+  };
+  GetFederateHandleResponse_Success_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      GetFederateHandleResponse_Success_descriptor_,
+      GetFederateHandleResponse_Success::default_instance_,
+      GetFederateHandleResponse_Success_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandleResponse_Success, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandleResponse_Success, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(GetFederateHandleResponse_Success));
+  GetFederateHandleResponse_Failure_descriptor_ = GetFederateHandleResponse_descriptor_->nested_type(1);
+  static const int GetFederateHandleResponse_Failure_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandleResponse_Failure, cause_),
+  };
+  GetFederateHandleResponse_Failure_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      GetFederateHandleResponse_Failure_descriptor_,
+      GetFederateHandleResponse_Failure::default_instance_,
+      GetFederateHandleResponse_Failure_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandleResponse_Failure, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandleResponse_Failure, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(GetFederateHandleResponse_Failure));
+  GetFederateHandleResponse_Failure_Cause_descriptor_ = GetFederateHandleResponse_Failure_descriptor_->enum_type(0);
+  GetFederateNameResponse_descriptor_ = file->message_type(12);
+  static const int GetFederateNameResponse_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateNameResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateNameResponse, success_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateNameResponse, failure_),
+  };
+  GetFederateNameResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      GetFederateNameResponse_descriptor_,
+      GetFederateNameResponse::default_instance_,
+      GetFederateNameResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateNameResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateNameResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(GetFederateNameResponse));
+  GetFederateNameResponse_Success_descriptor_ = GetFederateNameResponse_descriptor_->nested_type(0);
+  static const int GetFederateNameResponse_Success_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateNameResponse_Success, federatename_),
+  };
+  GetFederateNameResponse_Success_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      GetFederateNameResponse_Success_descriptor_,
+      GetFederateNameResponse_Success::default_instance_,
+      GetFederateNameResponse_Success_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateNameResponse_Success, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateNameResponse_Success, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(GetFederateNameResponse_Success));
+  GetFederateNameResponse_Failure_descriptor_ = GetFederateNameResponse_descriptor_->nested_type(1);
+  static const int GetFederateNameResponse_Failure_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateNameResponse_Failure, cause_),
+  };
+  GetFederateNameResponse_Failure_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      GetFederateNameResponse_Failure_descriptor_,
+      GetFederateNameResponse_Failure::default_instance_,
+      GetFederateNameResponse_Failure_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateNameResponse_Failure, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateNameResponse_Failure, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(GetFederateNameResponse_Failure));
+  GetFederateNameResponse_Failure_Cause_descriptor_ = GetFederateNameResponse_Failure_descriptor_->enum_type(0);
+  GetUpdateRateValueForAttributeResponse_descriptor_ = file->message_type(13);
+  static const int GetUpdateRateValueForAttributeResponse_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttributeResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttributeResponse, success_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttributeResponse, failure_),
+  };
+  GetUpdateRateValueForAttributeResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      GetUpdateRateValueForAttributeResponse_descriptor_,
+      GetUpdateRateValueForAttributeResponse::default_instance_,
+      GetUpdateRateValueForAttributeResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttributeResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttributeResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(GetUpdateRateValueForAttributeResponse));
+  GetUpdateRateValueForAttributeResponse_Success_descriptor_ = GetUpdateRateValueForAttributeResponse_descriptor_->nested_type(0);
+  static const int GetUpdateRateValueForAttributeResponse_Success_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttributeResponse_Success, updaterate_),
+  };
+  GetUpdateRateValueForAttributeResponse_Success_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      GetUpdateRateValueForAttributeResponse_Success_descriptor_,
+      GetUpdateRateValueForAttributeResponse_Success::default_instance_,
+      GetUpdateRateValueForAttributeResponse_Success_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttributeResponse_Success, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttributeResponse_Success, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(GetUpdateRateValueForAttributeResponse_Success));
+  GetUpdateRateValueForAttributeResponse_Failure_descriptor_ = GetUpdateRateValueForAttributeResponse_descriptor_->nested_type(1);
+  static const int GetUpdateRateValueForAttributeResponse_Failure_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttributeResponse_Failure, cause_),
+  };
+  GetUpdateRateValueForAttributeResponse_Failure_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      GetUpdateRateValueForAttributeResponse_Failure_descriptor_,
+      GetUpdateRateValueForAttributeResponse_Failure::default_instance_,
+      GetUpdateRateValueForAttributeResponse_Failure_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttributeResponse_Failure, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttributeResponse_Failure, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(GetUpdateRateValueForAttributeResponse_Failure));
+  GetUpdateRateValueForAttributeResponse_Failure_Cause_descriptor_ = GetUpdateRateValueForAttributeResponse_Failure_descriptor_->enum_type(0);
+  AttributeOwnershipDivestitureIfWantedResponse_descriptor_ = file->message_type(14);
+  static const int AttributeOwnershipDivestitureIfWantedResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipDivestitureIfWantedResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipDivestitureIfWantedResponse, attributehandles_),
+  };
+  AttributeOwnershipDivestitureIfWantedResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AttributeOwnershipDivestitureIfWantedResponse_descriptor_,
+      AttributeOwnershipDivestitureIfWantedResponse::default_instance_,
+      AttributeOwnershipDivestitureIfWantedResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipDivestitureIfWantedResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipDivestitureIfWantedResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AttributeOwnershipDivestitureIfWantedResponse));
+  QueryGALTResponse_descriptor_ = file->message_type(15);
+  static const int QueryGALTResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryGALTResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryGALTResponse, galt_),
+  };
+  QueryGALTResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      QueryGALTResponse_descriptor_,
+      QueryGALTResponse::default_instance_,
+      QueryGALTResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryGALTResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryGALTResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(QueryGALTResponse));
+  QueryLITSResponse_descriptor_ = file->message_type(16);
+  static const int QueryLITSResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryLITSResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryLITSResponse, lits_),
+  };
+  QueryLITSResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      QueryLITSResponse_descriptor_,
+      QueryLITSResponse::default_instance_,
+      QueryLITSResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryLITSResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryLITSResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(QueryLITSResponse));
+  RetractResponse_descriptor_ = file->message_type(17);
+  static const int RetractResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RetractResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RetractResponse, failure_),
+  };
+  RetractResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RetractResponse_descriptor_,
+      RetractResponse::default_instance_,
+      RetractResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RetractResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RetractResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RetractResponse));
+  RetractResponse_Failure_descriptor_ = RetractResponse_descriptor_->nested_type(0);
+  static const int RetractResponse_Failure_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RetractResponse_Failure, cause_),
+  };
+  RetractResponse_Failure_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RetractResponse_Failure_descriptor_,
+      RetractResponse_Failure::default_instance_,
+      RetractResponse_Failure_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RetractResponse_Failure, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RetractResponse_Failure, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RetractResponse_Failure));
+  RetractResponse_Failure_Cause_descriptor_ = RetractResponse_Failure_descriptor_->enum_type(0);
+  AssociateRegionsForUpdatesResponse_descriptor_ = file->message_type(18);
+  static const int AssociateRegionsForUpdatesResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AssociateRegionsForUpdatesResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AssociateRegionsForUpdatesResponse, failure_),
+  };
+  AssociateRegionsForUpdatesResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AssociateRegionsForUpdatesResponse_descriptor_,
+      AssociateRegionsForUpdatesResponse::default_instance_,
+      AssociateRegionsForUpdatesResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AssociateRegionsForUpdatesResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AssociateRegionsForUpdatesResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AssociateRegionsForUpdatesResponse));
+  AssociateRegionsForUpdatesResponse_Failure_descriptor_ = AssociateRegionsForUpdatesResponse_descriptor_->nested_type(0);
+  static const int AssociateRegionsForUpdatesResponse_Failure_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AssociateRegionsForUpdatesResponse_Failure, cause_),
+  };
+  AssociateRegionsForUpdatesResponse_Failure_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AssociateRegionsForUpdatesResponse_Failure_descriptor_,
+      AssociateRegionsForUpdatesResponse_Failure::default_instance_,
+      AssociateRegionsForUpdatesResponse_Failure_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AssociateRegionsForUpdatesResponse_Failure, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AssociateRegionsForUpdatesResponse_Failure, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AssociateRegionsForUpdatesResponse_Failure));
+  AssociateRegionsForUpdatesResponse_Failure_Cause_descriptor_ = AssociateRegionsForUpdatesResponse_Failure_descriptor_->enum_type(0);
+  UnassociateRegionsForUpdatesResponse_descriptor_ = file->message_type(19);
+  static const int UnassociateRegionsForUpdatesResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnassociateRegionsForUpdatesResponse, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnassociateRegionsForUpdatesResponse, failure_),
+  };
+  UnassociateRegionsForUpdatesResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      UnassociateRegionsForUpdatesResponse_descriptor_,
+      UnassociateRegionsForUpdatesResponse::default_instance_,
+      UnassociateRegionsForUpdatesResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnassociateRegionsForUpdatesResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnassociateRegionsForUpdatesResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(UnassociateRegionsForUpdatesResponse));
+  UnassociateRegionsForUpdatesResponse_Failure_descriptor_ = UnassociateRegionsForUpdatesResponse_descriptor_->nested_type(0);
+  static const int UnassociateRegionsForUpdatesResponse_Failure_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnassociateRegionsForUpdatesResponse_Failure, cause_),
+  };
+  UnassociateRegionsForUpdatesResponse_Failure_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      UnassociateRegionsForUpdatesResponse_Failure_descriptor_,
+      UnassociateRegionsForUpdatesResponse_Failure::default_instance_,
+      UnassociateRegionsForUpdatesResponse_Failure_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnassociateRegionsForUpdatesResponse_Failure, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnassociateRegionsForUpdatesResponse_Failure, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(UnassociateRegionsForUpdatesResponse_Failure));
+  UnassociateRegionsForUpdatesResponse_Failure_Cause_descriptor_ = UnassociateRegionsForUpdatesResponse_Failure_descriptor_->enum_type(0);
+  SynchronizationPointRegistrationSucceeded_descriptor_ = file->message_type(20);
+  static const int SynchronizationPointRegistrationSucceeded_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SynchronizationPointRegistrationSucceeded, label_),
+  };
+  SynchronizationPointRegistrationSucceeded_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      SynchronizationPointRegistrationSucceeded_descriptor_,
+      SynchronizationPointRegistrationSucceeded::default_instance_,
+      SynchronizationPointRegistrationSucceeded_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SynchronizationPointRegistrationSucceeded, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SynchronizationPointRegistrationSucceeded, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(SynchronizationPointRegistrationSucceeded));
+  SynchronizationPointRegistrationFailed_descriptor_ = file->message_type(21);
+  static const int SynchronizationPointRegistrationFailed_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SynchronizationPointRegistrationFailed, label_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SynchronizationPointRegistrationFailed, synchronizationpointfailurereason_),
+  };
+  SynchronizationPointRegistrationFailed_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      SynchronizationPointRegistrationFailed_descriptor_,
+      SynchronizationPointRegistrationFailed::default_instance_,
+      SynchronizationPointRegistrationFailed_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SynchronizationPointRegistrationFailed, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SynchronizationPointRegistrationFailed, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(SynchronizationPointRegistrationFailed));
+  AnnounceSynchronizationPoint_descriptor_ = file->message_type(22);
+  static const int AnnounceSynchronizationPoint_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AnnounceSynchronizationPoint, label_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AnnounceSynchronizationPoint, tag_),
+  };
+  AnnounceSynchronizationPoint_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AnnounceSynchronizationPoint_descriptor_,
+      AnnounceSynchronizationPoint::default_instance_,
+      AnnounceSynchronizationPoint_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AnnounceSynchronizationPoint, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AnnounceSynchronizationPoint, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AnnounceSynchronizationPoint));
+  FederationSynchronized_descriptor_ = file->message_type(23);
+  static const int FederationSynchronized_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationSynchronized, label_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationSynchronized, federatehandlesthatfailedtosynchronize_),
+  };
+  FederationSynchronized_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationSynchronized_descriptor_,
+      FederationSynchronized::default_instance_,
+      FederationSynchronized_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationSynchronized, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationSynchronized, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationSynchronized));
+  InitiateFederateSave_descriptor_ = file->message_type(24);
+  static const int InitiateFederateSave_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InitiateFederateSave, label_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InitiateFederateSave, time_),
+  };
+  InitiateFederateSave_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      InitiateFederateSave_descriptor_,
+      InitiateFederateSave::default_instance_,
+      InitiateFederateSave_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InitiateFederateSave, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InitiateFederateSave, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(InitiateFederateSave));
+  FederationSaved_descriptor_ = file->message_type(25);
+  static const int FederationSaved_offsets_[1] = {
+  };
+  FederationSaved_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationSaved_descriptor_,
+      FederationSaved::default_instance_,
+      FederationSaved_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationSaved, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationSaved, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationSaved));
+  FederationNotSaved_descriptor_ = file->message_type(26);
+  static const int FederationNotSaved_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationNotSaved, savefailurereason_),
+  };
+  FederationNotSaved_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationNotSaved_descriptor_,
+      FederationNotSaved::default_instance_,
+      FederationNotSaved_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationNotSaved, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationNotSaved, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationNotSaved));
+  FederateSaveStatus_descriptor_ = file->message_type(27);
+  static const int FederateSaveStatus_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveStatus, federatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveStatus, savestatus_),
+  };
+  FederateSaveStatus_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateSaveStatus_descriptor_,
+      FederateSaveStatus::default_instance_,
+      FederateSaveStatus_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveStatus, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveStatus, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateSaveStatus));
+  FederationSaveStatusResponse_descriptor_ = file->message_type(28);
+  static const int FederationSaveStatusResponse_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationSaveStatusResponse, federationsavestatus_),
+  };
+  FederationSaveStatusResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationSaveStatusResponse_descriptor_,
+      FederationSaveStatusResponse::default_instance_,
+      FederationSaveStatusResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationSaveStatusResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationSaveStatusResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationSaveStatusResponse));
+  RequestFederationRestoreSucceeded_descriptor_ = file->message_type(29);
+  static const int RequestFederationRestoreSucceeded_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestoreSucceeded, label_),
+  };
+  RequestFederationRestoreSucceeded_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestFederationRestoreSucceeded_descriptor_,
+      RequestFederationRestoreSucceeded::default_instance_,
+      RequestFederationRestoreSucceeded_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestoreSucceeded, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestoreSucceeded, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestFederationRestoreSucceeded));
+  RequestFederationRestoreFailed_descriptor_ = file->message_type(30);
+  static const int RequestFederationRestoreFailed_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestoreFailed, label_),
+  };
+  RequestFederationRestoreFailed_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestFederationRestoreFailed_descriptor_,
+      RequestFederationRestoreFailed::default_instance_,
+      RequestFederationRestoreFailed_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestoreFailed, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestoreFailed, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestFederationRestoreFailed));
+  FederationRestoreBegun_descriptor_ = file->message_type(31);
+  static const int FederationRestoreBegun_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationRestoreBegun, label_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationRestoreBegun, federatename_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationRestoreBegun, federatehandle_),
+  };
+  FederationRestoreBegun_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationRestoreBegun_descriptor_,
+      FederationRestoreBegun::default_instance_,
+      FederationRestoreBegun_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationRestoreBegun, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationRestoreBegun, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationRestoreBegun));
+  InitiateFederateRestore_descriptor_ = file->message_type(32);
+  static const int InitiateFederateRestore_offsets_[1] = {
+  };
+  InitiateFederateRestore_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      InitiateFederateRestore_descriptor_,
+      InitiateFederateRestore::default_instance_,
+      InitiateFederateRestore_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InitiateFederateRestore, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InitiateFederateRestore, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(InitiateFederateRestore));
+  FederationRestored_descriptor_ = file->message_type(33);
+  static const int FederationRestored_offsets_[1] = {
+  };
+  FederationRestored_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationRestored_descriptor_,
+      FederationRestored::default_instance_,
+      FederationRestored_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationRestored, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationRestored, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationRestored));
+  FederationNotRestored_descriptor_ = file->message_type(34);
+  static const int FederationNotRestored_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationNotRestored, restorefailurereason_),
+  };
+  FederationNotRestored_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationNotRestored_descriptor_,
+      FederationNotRestored::default_instance_,
+      FederationNotRestored_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationNotRestored, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationNotRestored, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationNotRestored));
+  FederateRestoreStatus_descriptor_ = file->message_type(35);
+  static const int FederateRestoreStatus_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateRestoreStatus, prerestorefederatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateRestoreStatus, postrestorefederatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateRestoreStatus, restorestatus_),
+  };
+  FederateRestoreStatus_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateRestoreStatus_descriptor_,
+      FederateRestoreStatus::default_instance_,
+      FederateRestoreStatus_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateRestoreStatus, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateRestoreStatus, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateRestoreStatus));
+  FederationRestoreStatusResponse_descriptor_ = file->message_type(36);
+  static const int FederationRestoreStatusResponse_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationRestoreStatusResponse, federationrestorestatus_),
+  };
+  FederationRestoreStatusResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationRestoreStatusResponse_descriptor_,
+      FederationRestoreStatusResponse::default_instance_,
+      FederationRestoreStatusResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationRestoreStatusResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationRestoreStatusResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationRestoreStatusResponse));
+  StartRegistrationForObjectClass_descriptor_ = file->message_type(37);
+  static const int StartRegistrationForObjectClass_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(StartRegistrationForObjectClass, objectclasshandle_),
+  };
+  StartRegistrationForObjectClass_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      StartRegistrationForObjectClass_descriptor_,
+      StartRegistrationForObjectClass::default_instance_,
+      StartRegistrationForObjectClass_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(StartRegistrationForObjectClass, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(StartRegistrationForObjectClass, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(StartRegistrationForObjectClass));
+  StopRegistrationForObjectClass_descriptor_ = file->message_type(38);
+  static const int StopRegistrationForObjectClass_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(StopRegistrationForObjectClass, objectclasshandle_),
+  };
+  StopRegistrationForObjectClass_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      StopRegistrationForObjectClass_descriptor_,
+      StopRegistrationForObjectClass::default_instance_,
+      StopRegistrationForObjectClass_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(StopRegistrationForObjectClass, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(StopRegistrationForObjectClass, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(StopRegistrationForObjectClass));
+  TurnInteractionsOn_descriptor_ = file->message_type(39);
+  static const int TurnInteractionsOn_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnInteractionsOn, interactionclasshandle_),
+  };
+  TurnInteractionsOn_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      TurnInteractionsOn_descriptor_,
+      TurnInteractionsOn::default_instance_,
+      TurnInteractionsOn_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnInteractionsOn, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnInteractionsOn, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(TurnInteractionsOn));
+  TurnInteractionsOff_descriptor_ = file->message_type(40);
+  static const int TurnInteractionsOff_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnInteractionsOff, interactionclasshandle_),
+  };
+  TurnInteractionsOff_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      TurnInteractionsOff_descriptor_,
+      TurnInteractionsOff::default_instance_,
+      TurnInteractionsOff_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnInteractionsOff, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnInteractionsOff, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(TurnInteractionsOff));
+  DiscoverObjectInstance_descriptor_ = file->message_type(41);
+  static const int DiscoverObjectInstance_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DiscoverObjectInstance, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DiscoverObjectInstance, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DiscoverObjectInstance, objectinstancename_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DiscoverObjectInstance, producingfederatehandle_),
+  };
+  DiscoverObjectInstance_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      DiscoverObjectInstance_descriptor_,
+      DiscoverObjectInstance::default_instance_,
+      DiscoverObjectInstance_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DiscoverObjectInstance, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DiscoverObjectInstance, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(DiscoverObjectInstance));
+  Region_descriptor_ = file->message_type(42);
+  static const int Region_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Region, dimensionrangebounds_),
+  };
+  Region_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      Region_descriptor_,
+      Region::default_instance_,
+      Region_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Region, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Region, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(Region));
+  ReflectAttributeValues_descriptor_ = file->message_type(43);
+  static const int ReflectAttributeValues_offsets_[10] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReflectAttributeValues, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReflectAttributeValues, attributevalues_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReflectAttributeValues, tag_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReflectAttributeValues, sentordertype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReflectAttributeValues, receivedordertype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReflectAttributeValues, transportationtypehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReflectAttributeValues, time_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReflectAttributeValues, messageretractionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReflectAttributeValues, producingfederatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReflectAttributeValues, regions_),
+  };
+  ReflectAttributeValues_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ReflectAttributeValues_descriptor_,
+      ReflectAttributeValues::default_instance_,
+      ReflectAttributeValues_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReflectAttributeValues, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReflectAttributeValues, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ReflectAttributeValues));
+  RemoveObjectInstance_descriptor_ = file->message_type(44);
+  static const int RemoveObjectInstance_offsets_[7] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RemoveObjectInstance, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RemoveObjectInstance, tag_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RemoveObjectInstance, sentordertype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RemoveObjectInstance, receivedordertype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RemoveObjectInstance, time_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RemoveObjectInstance, messageretractionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RemoveObjectInstance, producingfederatehandle_),
+  };
+  RemoveObjectInstance_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RemoveObjectInstance_descriptor_,
+      RemoveObjectInstance::default_instance_,
+      RemoveObjectInstance_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RemoveObjectInstance, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RemoveObjectInstance, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RemoveObjectInstance));
+  AttributesInScope_descriptor_ = file->message_type(45);
+  static const int AttributesInScope_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributesInScope, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributesInScope, attributehandles_),
+  };
+  AttributesInScope_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AttributesInScope_descriptor_,
+      AttributesInScope::default_instance_,
+      AttributesInScope_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributesInScope, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributesInScope, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AttributesInScope));
+  AttributesOutOfScope_descriptor_ = file->message_type(46);
+  static const int AttributesOutOfScope_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributesOutOfScope, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributesOutOfScope, attributehandles_),
+  };
+  AttributesOutOfScope_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AttributesOutOfScope_descriptor_,
+      AttributesOutOfScope::default_instance_,
+      AttributesOutOfScope_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributesOutOfScope, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributesOutOfScope, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AttributesOutOfScope));
+  ProvideAttributeValueUpdate_descriptor_ = file->message_type(47);
+  static const int ProvideAttributeValueUpdate_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ProvideAttributeValueUpdate, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ProvideAttributeValueUpdate, attributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ProvideAttributeValueUpdate, tag_),
+  };
+  ProvideAttributeValueUpdate_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ProvideAttributeValueUpdate_descriptor_,
+      ProvideAttributeValueUpdate::default_instance_,
+      ProvideAttributeValueUpdate_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ProvideAttributeValueUpdate, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ProvideAttributeValueUpdate, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ProvideAttributeValueUpdate));
+  TurnUpdatesOnForObjectInstance_descriptor_ = file->message_type(48);
+  static const int TurnUpdatesOnForObjectInstance_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnUpdatesOnForObjectInstance, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnUpdatesOnForObjectInstance, attributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnUpdatesOnForObjectInstance, updateratedesignator_),
+  };
+  TurnUpdatesOnForObjectInstance_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      TurnUpdatesOnForObjectInstance_descriptor_,
+      TurnUpdatesOnForObjectInstance::default_instance_,
+      TurnUpdatesOnForObjectInstance_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnUpdatesOnForObjectInstance, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnUpdatesOnForObjectInstance, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(TurnUpdatesOnForObjectInstance));
+  TurnUpdatesOffForObjectInstance_descriptor_ = file->message_type(49);
+  static const int TurnUpdatesOffForObjectInstance_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnUpdatesOffForObjectInstance, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnUpdatesOffForObjectInstance, attributehandles_),
+  };
+  TurnUpdatesOffForObjectInstance_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      TurnUpdatesOffForObjectInstance_descriptor_,
+      TurnUpdatesOffForObjectInstance::default_instance_,
+      TurnUpdatesOffForObjectInstance_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnUpdatesOffForObjectInstance, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TurnUpdatesOffForObjectInstance, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(TurnUpdatesOffForObjectInstance));
+  ReceiveInteraction_descriptor_ = file->message_type(50);
+  static const int ReceiveInteraction_offsets_[10] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReceiveInteraction, interactionclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReceiveInteraction, parametervalues_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReceiveInteraction, tag_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReceiveInteraction, sentordertype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReceiveInteraction, receivedordertype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReceiveInteraction, transportationtypehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReceiveInteraction, time_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReceiveInteraction, messageretractionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReceiveInteraction, producingfederatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReceiveInteraction, regions_),
+  };
+  ReceiveInteraction_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ReceiveInteraction_descriptor_,
+      ReceiveInteraction::default_instance_,
+      ReceiveInteraction_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReceiveInteraction, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReceiveInteraction, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ReceiveInteraction));
+  RequestAttributeOwnershipAssumption_descriptor_ = file->message_type(51);
+  static const int RequestAttributeOwnershipAssumption_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestAttributeOwnershipAssumption, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestAttributeOwnershipAssumption, attributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestAttributeOwnershipAssumption, tag_),
+  };
+  RequestAttributeOwnershipAssumption_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestAttributeOwnershipAssumption_descriptor_,
+      RequestAttributeOwnershipAssumption::default_instance_,
+      RequestAttributeOwnershipAssumption_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestAttributeOwnershipAssumption, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestAttributeOwnershipAssumption, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestAttributeOwnershipAssumption));
+  RequestDivestitureConfirmation_descriptor_ = file->message_type(52);
+  static const int RequestDivestitureConfirmation_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestDivestitureConfirmation, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestDivestitureConfirmation, attributehandles_),
+  };
+  RequestDivestitureConfirmation_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestDivestitureConfirmation_descriptor_,
+      RequestDivestitureConfirmation::default_instance_,
+      RequestDivestitureConfirmation_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestDivestitureConfirmation, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestDivestitureConfirmation, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestDivestitureConfirmation));
+  AttributeOwnershipAcquisitionNotification_descriptor_ = file->message_type(53);
+  static const int AttributeOwnershipAcquisitionNotification_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipAcquisitionNotification, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipAcquisitionNotification, attributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipAcquisitionNotification, tag_),
+  };
+  AttributeOwnershipAcquisitionNotification_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AttributeOwnershipAcquisitionNotification_descriptor_,
+      AttributeOwnershipAcquisitionNotification::default_instance_,
+      AttributeOwnershipAcquisitionNotification_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipAcquisitionNotification, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipAcquisitionNotification, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AttributeOwnershipAcquisitionNotification));
+  AttributeOwnershipUnavailable_descriptor_ = file->message_type(54);
+  static const int AttributeOwnershipUnavailable_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipUnavailable, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipUnavailable, attributehandles_),
+  };
+  AttributeOwnershipUnavailable_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AttributeOwnershipUnavailable_descriptor_,
+      AttributeOwnershipUnavailable::default_instance_,
+      AttributeOwnershipUnavailable_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipUnavailable, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipUnavailable, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AttributeOwnershipUnavailable));
+  RequestAttributeOwnershipRelease_descriptor_ = file->message_type(55);
+  static const int RequestAttributeOwnershipRelease_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestAttributeOwnershipRelease, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestAttributeOwnershipRelease, attributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestAttributeOwnershipRelease, tag_),
+  };
+  RequestAttributeOwnershipRelease_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestAttributeOwnershipRelease_descriptor_,
+      RequestAttributeOwnershipRelease::default_instance_,
+      RequestAttributeOwnershipRelease_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestAttributeOwnershipRelease, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestAttributeOwnershipRelease, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestAttributeOwnershipRelease));
+  ConfirmAttributeOwnershipAcquisitionCancellation_descriptor_ = file->message_type(56);
+  static const int ConfirmAttributeOwnershipAcquisitionCancellation_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ConfirmAttributeOwnershipAcquisitionCancellation, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ConfirmAttributeOwnershipAcquisitionCancellation, attributehandles_),
+  };
+  ConfirmAttributeOwnershipAcquisitionCancellation_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ConfirmAttributeOwnershipAcquisitionCancellation_descriptor_,
+      ConfirmAttributeOwnershipAcquisitionCancellation::default_instance_,
+      ConfirmAttributeOwnershipAcquisitionCancellation_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ConfirmAttributeOwnershipAcquisitionCancellation, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ConfirmAttributeOwnershipAcquisitionCancellation, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ConfirmAttributeOwnershipAcquisitionCancellation));
+  InformAttributeOwnership_descriptor_ = file->message_type(57);
+  static const int InformAttributeOwnership_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InformAttributeOwnership, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InformAttributeOwnership, attributehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InformAttributeOwnership, federatehandle_),
+  };
+  InformAttributeOwnership_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      InformAttributeOwnership_descriptor_,
+      InformAttributeOwnership::default_instance_,
+      InformAttributeOwnership_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InformAttributeOwnership, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InformAttributeOwnership, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(InformAttributeOwnership));
+  AttributeIsNotOwned_descriptor_ = file->message_type(58);
+  static const int AttributeIsNotOwned_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeIsNotOwned, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeIsNotOwned, attributehandle_),
+  };
+  AttributeIsNotOwned_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AttributeIsNotOwned_descriptor_,
+      AttributeIsNotOwned::default_instance_,
+      AttributeIsNotOwned_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeIsNotOwned, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeIsNotOwned, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AttributeIsNotOwned));
+  AttributeIsOwnedByRTI_descriptor_ = file->message_type(59);
+  static const int AttributeIsOwnedByRTI_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeIsOwnedByRTI, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeIsOwnedByRTI, attributehandle_),
+  };
+  AttributeIsOwnedByRTI_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AttributeIsOwnedByRTI_descriptor_,
+      AttributeIsOwnedByRTI::default_instance_,
+      AttributeIsOwnedByRTI_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeIsOwnedByRTI, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeIsOwnedByRTI, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AttributeIsOwnedByRTI));
+  TimeRegulationEnabled_descriptor_ = file->message_type(60);
+  static const int TimeRegulationEnabled_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeRegulationEnabled, time_),
+  };
+  TimeRegulationEnabled_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      TimeRegulationEnabled_descriptor_,
+      TimeRegulationEnabled::default_instance_,
+      TimeRegulationEnabled_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeRegulationEnabled, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeRegulationEnabled, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(TimeRegulationEnabled));
+  TimeConstrainedEnabled_descriptor_ = file->message_type(61);
+  static const int TimeConstrainedEnabled_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeConstrainedEnabled, time_),
+  };
+  TimeConstrainedEnabled_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      TimeConstrainedEnabled_descriptor_,
+      TimeConstrainedEnabled::default_instance_,
+      TimeConstrainedEnabled_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeConstrainedEnabled, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeConstrainedEnabled, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(TimeConstrainedEnabled));
+  TimeAdvanceGrant_descriptor_ = file->message_type(62);
+  static const int TimeAdvanceGrant_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeAdvanceGrant, time_),
+  };
+  TimeAdvanceGrant_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      TimeAdvanceGrant_descriptor_,
+      TimeAdvanceGrant::default_instance_,
+      TimeAdvanceGrant_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeAdvanceGrant, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeAdvanceGrant, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(TimeAdvanceGrant));
+  RequestRetraction_descriptor_ = file->message_type(63);
+  static const int RequestRetraction_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestRetraction, messageretractionhandle_),
+  };
+  RequestRetraction_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestRetraction_descriptor_,
+      RequestRetraction::default_instance_,
+      RequestRetraction_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestRetraction, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestRetraction, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestRetraction));
+  ResignedFederationExecution_descriptor_ = file->message_type(64);
+  static const int ResignedFederationExecution_offsets_[1] = {
+  };
+  ResignedFederationExecution_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ResignedFederationExecution_descriptor_,
+      ResignedFederationExecution::default_instance_,
+      ResignedFederationExecution_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ResignedFederationExecution, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ResignedFederationExecution, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ResignedFederationExecution));
+  SynchronizationPointFailureReason_descriptor_ = file->enum_type(0);
+  SaveFailureReason_descriptor_ = file->enum_type(1);
+  SaveStatus_descriptor_ = file->enum_type(2);
+  RestoreFailureReason_descriptor_ = file->enum_type(3);
+  RestoreStatus_descriptor_ = file->enum_type(4);
+}
+
+namespace {
+
+GOOGLE_PROTOBUF_DECLARE_ONCE(protobuf_AssignDescriptors_once_);
+inline void protobuf_AssignDescriptorsOnce() {
+  ::google::protobuf::GoogleOnceInit(&protobuf_AssignDescriptors_once_,
+                 &protobuf_AssignDesc_FederateMessageProtos_2eproto);
+}
+
+void protobuf_RegisterTypes(const ::std::string&) {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FDDUpdated_descriptor_, &FDDUpdated::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    JoinFederationExecutionResponse_descriptor_, &JoinFederationExecutionResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    JoinFederationExecutionResponse_Success_descriptor_, &JoinFederationExecutionResponse_Success::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    JoinFederationExecutionResponse_Failure_descriptor_, &JoinFederationExecutionResponse_Failure::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestFederationSaveResponse_descriptor_, &RequestFederationSaveResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestFederationSaveResponse_Failure_descriptor_, &RequestFederationSaveResponse_Failure::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AbortFederationSaveResponse_descriptor_, &AbortFederationSaveResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AbortFederationSaveResponse_Failure_descriptor_, &AbortFederationSaveResponse_Failure::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestFederationRestoreResponse_descriptor_, &RequestFederationRestoreResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestFederationRestoreResponse_Failure_descriptor_, &RequestFederationRestoreResponse_Failure::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AbortFederationRestoreResponse_descriptor_, &AbortFederationRestoreResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AbortFederationRestoreResponse_Failure_descriptor_, &AbortFederationRestoreResponse_Failure::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ObjectInstanceNameReservationSucceeded_descriptor_, &ObjectInstanceNameReservationSucceeded::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ObjectInstanceNameReservationFailed_descriptor_, &ObjectInstanceNameReservationFailed::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    MultipleObjectInstanceNameReservationSucceeded_descriptor_, &MultipleObjectInstanceNameReservationSucceeded::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    MultipleObjectInstanceNameReservationFailed_descriptor_, &MultipleObjectInstanceNameReservationFailed::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ReportInteractionTransportationType_descriptor_, &ReportInteractionTransportationType::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    GetFederateHandleResponse_descriptor_, &GetFederateHandleResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    GetFederateHandleResponse_Success_descriptor_, &GetFederateHandleResponse_Success::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    GetFederateHandleResponse_Failure_descriptor_, &GetFederateHandleResponse_Failure::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    GetFederateNameResponse_descriptor_, &GetFederateNameResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    GetFederateNameResponse_Success_descriptor_, &GetFederateNameResponse_Success::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    GetFederateNameResponse_Failure_descriptor_, &GetFederateNameResponse_Failure::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    GetUpdateRateValueForAttributeResponse_descriptor_, &GetUpdateRateValueForAttributeResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    GetUpdateRateValueForAttributeResponse_Success_descriptor_, &GetUpdateRateValueForAttributeResponse_Success::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    GetUpdateRateValueForAttributeResponse_Failure_descriptor_, &GetUpdateRateValueForAttributeResponse_Failure::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AttributeOwnershipDivestitureIfWantedResponse_descriptor_, &AttributeOwnershipDivestitureIfWantedResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    QueryGALTResponse_descriptor_, &QueryGALTResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    QueryLITSResponse_descriptor_, &QueryLITSResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RetractResponse_descriptor_, &RetractResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RetractResponse_Failure_descriptor_, &RetractResponse_Failure::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AssociateRegionsForUpdatesResponse_descriptor_, &AssociateRegionsForUpdatesResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AssociateRegionsForUpdatesResponse_Failure_descriptor_, &AssociateRegionsForUpdatesResponse_Failure::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    UnassociateRegionsForUpdatesResponse_descriptor_, &UnassociateRegionsForUpdatesResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    UnassociateRegionsForUpdatesResponse_Failure_descriptor_, &UnassociateRegionsForUpdatesResponse_Failure::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    SynchronizationPointRegistrationSucceeded_descriptor_, &SynchronizationPointRegistrationSucceeded::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    SynchronizationPointRegistrationFailed_descriptor_, &SynchronizationPointRegistrationFailed::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AnnounceSynchronizationPoint_descriptor_, &AnnounceSynchronizationPoint::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationSynchronized_descriptor_, &FederationSynchronized::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    InitiateFederateSave_descriptor_, &InitiateFederateSave::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationSaved_descriptor_, &FederationSaved::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationNotSaved_descriptor_, &FederationNotSaved::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateSaveStatus_descriptor_, &FederateSaveStatus::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationSaveStatusResponse_descriptor_, &FederationSaveStatusResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestFederationRestoreSucceeded_descriptor_, &RequestFederationRestoreSucceeded::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestFederationRestoreFailed_descriptor_, &RequestFederationRestoreFailed::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationRestoreBegun_descriptor_, &FederationRestoreBegun::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    InitiateFederateRestore_descriptor_, &InitiateFederateRestore::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationRestored_descriptor_, &FederationRestored::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationNotRestored_descriptor_, &FederationNotRestored::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateRestoreStatus_descriptor_, &FederateRestoreStatus::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationRestoreStatusResponse_descriptor_, &FederationRestoreStatusResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    StartRegistrationForObjectClass_descriptor_, &StartRegistrationForObjectClass::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    StopRegistrationForObjectClass_descriptor_, &StopRegistrationForObjectClass::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    TurnInteractionsOn_descriptor_, &TurnInteractionsOn::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    TurnInteractionsOff_descriptor_, &TurnInteractionsOff::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    DiscoverObjectInstance_descriptor_, &DiscoverObjectInstance::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    Region_descriptor_, &Region::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ReflectAttributeValues_descriptor_, &ReflectAttributeValues::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RemoveObjectInstance_descriptor_, &RemoveObjectInstance::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AttributesInScope_descriptor_, &AttributesInScope::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AttributesOutOfScope_descriptor_, &AttributesOutOfScope::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ProvideAttributeValueUpdate_descriptor_, &ProvideAttributeValueUpdate::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    TurnUpdatesOnForObjectInstance_descriptor_, &TurnUpdatesOnForObjectInstance::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    TurnUpdatesOffForObjectInstance_descriptor_, &TurnUpdatesOffForObjectInstance::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ReceiveInteraction_descriptor_, &ReceiveInteraction::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestAttributeOwnershipAssumption_descriptor_, &RequestAttributeOwnershipAssumption::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestDivestitureConfirmation_descriptor_, &RequestDivestitureConfirmation::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AttributeOwnershipAcquisitionNotification_descriptor_, &AttributeOwnershipAcquisitionNotification::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AttributeOwnershipUnavailable_descriptor_, &AttributeOwnershipUnavailable::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestAttributeOwnershipRelease_descriptor_, &RequestAttributeOwnershipRelease::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ConfirmAttributeOwnershipAcquisitionCancellation_descriptor_, &ConfirmAttributeOwnershipAcquisitionCancellation::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    InformAttributeOwnership_descriptor_, &InformAttributeOwnership::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AttributeIsNotOwned_descriptor_, &AttributeIsNotOwned::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AttributeIsOwnedByRTI_descriptor_, &AttributeIsOwnedByRTI::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    TimeRegulationEnabled_descriptor_, &TimeRegulationEnabled::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    TimeConstrainedEnabled_descriptor_, &TimeConstrainedEnabled::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    TimeAdvanceGrant_descriptor_, &TimeAdvanceGrant::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestRetraction_descriptor_, &RequestRetraction::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ResignedFederationExecution_descriptor_, &ResignedFederationExecution::default_instance());
+}
+
+}  // namespace
+
+void protobuf_ShutdownFile_FederateMessageProtos_2eproto() {
+  delete FDDUpdated::default_instance_;
+  delete FDDUpdated_reflection_;
+  delete JoinFederationExecutionResponse::default_instance_;
+  delete JoinFederationExecutionResponse_reflection_;
+  delete JoinFederationExecutionResponse_Success::default_instance_;
+  delete JoinFederationExecutionResponse_Success_reflection_;
+  delete JoinFederationExecutionResponse_Failure::default_instance_;
+  delete JoinFederationExecutionResponse_Failure_reflection_;
+  delete RequestFederationSaveResponse::default_instance_;
+  delete RequestFederationSaveResponse_reflection_;
+  delete RequestFederationSaveResponse_Failure::default_instance_;
+  delete RequestFederationSaveResponse_Failure_reflection_;
+  delete AbortFederationSaveResponse::default_instance_;
+  delete AbortFederationSaveResponse_reflection_;
+  delete AbortFederationSaveResponse_Failure::default_instance_;
+  delete AbortFederationSaveResponse_Failure_reflection_;
+  delete RequestFederationRestoreResponse::default_instance_;
+  delete RequestFederationRestoreResponse_reflection_;
+  delete RequestFederationRestoreResponse_Failure::default_instance_;
+  delete RequestFederationRestoreResponse_Failure_reflection_;
+  delete AbortFederationRestoreResponse::default_instance_;
+  delete AbortFederationRestoreResponse_reflection_;
+  delete AbortFederationRestoreResponse_Failure::default_instance_;
+  delete AbortFederationRestoreResponse_Failure_reflection_;
+  delete ObjectInstanceNameReservationSucceeded::default_instance_;
+  delete ObjectInstanceNameReservationSucceeded_reflection_;
+  delete ObjectInstanceNameReservationFailed::default_instance_;
+  delete ObjectInstanceNameReservationFailed_reflection_;
+  delete MultipleObjectInstanceNameReservationSucceeded::default_instance_;
+  delete MultipleObjectInstanceNameReservationSucceeded_reflection_;
+  delete MultipleObjectInstanceNameReservationFailed::default_instance_;
+  delete MultipleObjectInstanceNameReservationFailed_reflection_;
+  delete ReportInteractionTransportationType::default_instance_;
+  delete ReportInteractionTransportationType_reflection_;
+  delete GetFederateHandleResponse::default_instance_;
+  delete GetFederateHandleResponse_reflection_;
+  delete GetFederateHandleResponse_Success::default_instance_;
+  delete GetFederateHandleResponse_Success_reflection_;
+  delete GetFederateHandleResponse_Failure::default_instance_;
+  delete GetFederateHandleResponse_Failure_reflection_;
+  delete GetFederateNameResponse::default_instance_;
+  delete GetFederateNameResponse_reflection_;
+  delete GetFederateNameResponse_Success::default_instance_;
+  delete GetFederateNameResponse_Success_reflection_;
+  delete GetFederateNameResponse_Failure::default_instance_;
+  delete GetFederateNameResponse_Failure_reflection_;
+  delete GetUpdateRateValueForAttributeResponse::default_instance_;
+  delete GetUpdateRateValueForAttributeResponse_reflection_;
+  delete GetUpdateRateValueForAttributeResponse_Success::default_instance_;
+  delete GetUpdateRateValueForAttributeResponse_Success_reflection_;
+  delete GetUpdateRateValueForAttributeResponse_Failure::default_instance_;
+  delete GetUpdateRateValueForAttributeResponse_Failure_reflection_;
+  delete AttributeOwnershipDivestitureIfWantedResponse::default_instance_;
+  delete AttributeOwnershipDivestitureIfWantedResponse_reflection_;
+  delete QueryGALTResponse::default_instance_;
+  delete QueryGALTResponse_reflection_;
+  delete QueryLITSResponse::default_instance_;
+  delete QueryLITSResponse_reflection_;
+  delete RetractResponse::default_instance_;
+  delete RetractResponse_reflection_;
+  delete RetractResponse_Failure::default_instance_;
+  delete RetractResponse_Failure_reflection_;
+  delete AssociateRegionsForUpdatesResponse::default_instance_;
+  delete AssociateRegionsForUpdatesResponse_reflection_;
+  delete AssociateRegionsForUpdatesResponse_Failure::default_instance_;
+  delete AssociateRegionsForUpdatesResponse_Failure_reflection_;
+  delete UnassociateRegionsForUpdatesResponse::default_instance_;
+  delete UnassociateRegionsForUpdatesResponse_reflection_;
+  delete UnassociateRegionsForUpdatesResponse_Failure::default_instance_;
+  delete UnassociateRegionsForUpdatesResponse_Failure_reflection_;
+  delete SynchronizationPointRegistrationSucceeded::default_instance_;
+  delete SynchronizationPointRegistrationSucceeded_reflection_;
+  delete SynchronizationPointRegistrationFailed::default_instance_;
+  delete SynchronizationPointRegistrationFailed_reflection_;
+  delete AnnounceSynchronizationPoint::default_instance_;
+  delete AnnounceSynchronizationPoint_reflection_;
+  delete FederationSynchronized::default_instance_;
+  delete FederationSynchronized_reflection_;
+  delete InitiateFederateSave::default_instance_;
+  delete InitiateFederateSave_reflection_;
+  delete FederationSaved::default_instance_;
+  delete FederationSaved_reflection_;
+  delete FederationNotSaved::default_instance_;
+  delete FederationNotSaved_reflection_;
+  delete FederateSaveStatus::default_instance_;
+  delete FederateSaveStatus_reflection_;
+  delete FederationSaveStatusResponse::default_instance_;
+  delete FederationSaveStatusResponse_reflection_;
+  delete RequestFederationRestoreSucceeded::default_instance_;
+  delete RequestFederationRestoreSucceeded_reflection_;
+  delete RequestFederationRestoreFailed::default_instance_;
+  delete RequestFederationRestoreFailed_reflection_;
+  delete FederationRestoreBegun::default_instance_;
+  delete FederationRestoreBegun_reflection_;
+  delete InitiateFederateRestore::default_instance_;
+  delete InitiateFederateRestore_reflection_;
+  delete FederationRestored::default_instance_;
+  delete FederationRestored_reflection_;
+  delete FederationNotRestored::default_instance_;
+  delete FederationNotRestored_reflection_;
+  delete FederateRestoreStatus::default_instance_;
+  delete FederateRestoreStatus_reflection_;
+  delete FederationRestoreStatusResponse::default_instance_;
+  delete FederationRestoreStatusResponse_reflection_;
+  delete StartRegistrationForObjectClass::default_instance_;
+  delete StartRegistrationForObjectClass_reflection_;
+  delete StopRegistrationForObjectClass::default_instance_;
+  delete StopRegistrationForObjectClass_reflection_;
+  delete TurnInteractionsOn::default_instance_;
+  delete TurnInteractionsOn_reflection_;
+  delete TurnInteractionsOff::default_instance_;
+  delete TurnInteractionsOff_reflection_;
+  delete DiscoverObjectInstance::default_instance_;
+  delete DiscoverObjectInstance_reflection_;
+  delete Region::default_instance_;
+  delete Region_reflection_;
+  delete ReflectAttributeValues::default_instance_;
+  delete ReflectAttributeValues_reflection_;
+  delete RemoveObjectInstance::default_instance_;
+  delete RemoveObjectInstance_reflection_;
+  delete AttributesInScope::default_instance_;
+  delete AttributesInScope_reflection_;
+  delete AttributesOutOfScope::default_instance_;
+  delete AttributesOutOfScope_reflection_;
+  delete ProvideAttributeValueUpdate::default_instance_;
+  delete ProvideAttributeValueUpdate_reflection_;
+  delete TurnUpdatesOnForObjectInstance::default_instance_;
+  delete TurnUpdatesOnForObjectInstance_reflection_;
+  delete TurnUpdatesOffForObjectInstance::default_instance_;
+  delete TurnUpdatesOffForObjectInstance_reflection_;
+  delete ReceiveInteraction::default_instance_;
+  delete ReceiveInteraction_reflection_;
+  delete RequestAttributeOwnershipAssumption::default_instance_;
+  delete RequestAttributeOwnershipAssumption_reflection_;
+  delete RequestDivestitureConfirmation::default_instance_;
+  delete RequestDivestitureConfirmation_reflection_;
+  delete AttributeOwnershipAcquisitionNotification::default_instance_;
+  delete AttributeOwnershipAcquisitionNotification_reflection_;
+  delete AttributeOwnershipUnavailable::default_instance_;
+  delete AttributeOwnershipUnavailable_reflection_;
+  delete RequestAttributeOwnershipRelease::default_instance_;
+  delete RequestAttributeOwnershipRelease_reflection_;
+  delete ConfirmAttributeOwnershipAcquisitionCancellation::default_instance_;
+  delete ConfirmAttributeOwnershipAcquisitionCancellation_reflection_;
+  delete InformAttributeOwnership::default_instance_;
+  delete InformAttributeOwnership_reflection_;
+  delete AttributeIsNotOwned::default_instance_;
+  delete AttributeIsNotOwned_reflection_;
+  delete AttributeIsOwnedByRTI::default_instance_;
+  delete AttributeIsOwnedByRTI_reflection_;
+  delete TimeRegulationEnabled::default_instance_;
+  delete TimeRegulationEnabled_reflection_;
+  delete TimeConstrainedEnabled::default_instance_;
+  delete TimeConstrainedEnabled_reflection_;
+  delete TimeAdvanceGrant::default_instance_;
+  delete TimeAdvanceGrant_reflection_;
+  delete RequestRetraction::default_instance_;
+  delete RequestRetraction_reflection_;
+  delete ResignedFederationExecution::default_instance_;
+  delete ResignedFederationExecution_reflection_;
+}
+
+void protobuf_AddDesc_FederateMessageProtos_2eproto() {
+  static bool already_here = false;
+  if (already_here) return;
+  already_here = true;
+  GOOGLE_PROTOBUF_VERIFY_VERSION;
+
+  ::ohla::rti::proto::protobuf_AddDesc_OHLAProtos_2eproto();
+  ::ohla::rti::messages::proto::protobuf_AddDesc_MessageProtos_2eproto();
+  ::google::protobuf::DescriptorPool::InternalAddGeneratedFile(
+    "\n\033FederateMessageProtos.proto\022\027ohla.rti."
+    "messages.proto\032\020OHLAProtos.proto\032\023Messag"
+    "eProtos.proto\".\n\nFDDUpdated\022 \n\003fdd\030\001 \002(\013"
+    "2\023.ohla.rti.proto.FDD\"\307\004\n\037JoinFederation"
+    "ExecutionResponse\022Q\n\007success\030\001 \001(\0132@.ohl"
+    "a.rti.messages.proto.JoinFederationExecu"
+    "tionResponse.Success\022Q\n\007failure\030\002 \001(\0132@."
+    "ohla.rti.messages.proto.JoinFederationEx"
+    "ecutionResponse.Failure\032\200\001\n\007Success\022\024\n\014f"
+    "ederateName\030\001 \002(\t\022\026\n\016federateHandle\030\002 \002("
+    "\r\022 \n\003fdd\030\003 \002(\0132\023.ohla.rti.proto.FDD\022%\n\035l"
+    "ogicalTimeImplementationName\030\004 \002(\t\032\372\001\n\007F"
+    "ailure\022U\n\005cause\030\001 \002(\0162F.ohla.rti.message"
+    "s.proto.JoinFederationExecutionResponse."
+    "Failure.Cause\"\227\001\n\005Cause\022 \n\034FEDERATE_NAME"
+    "_ALREADY_IN_USE\020\002\022\'\n#FEDERATION_EXECUTIO"
+    "N_DOES_NOT_EXIST\020\003\022\024\n\020SAVE_IN_PROGRESS\020\004"
+    "\022\027\n\023RESTORE_IN_PROGRESS\020\005\022\024\n\020INCONSISTEN"
+    "T_FDD\020\006\"\367\002\n\035RequestFederationSaveRespons"
+    "e\022\021\n\trequestId\030\001 \002(\004\022O\n\007failure\030\002 \001(\0132>."
+    "ohla.rti.messages.proto.RequestFederatio"
+    "nSaveResponse.Failure\032\361\001\n\007Failure\022S\n\005cau"
+    "se\030\001 \002(\0162D.ohla.rti.messages.proto.Reque"
+    "stFederationSaveResponse.Failure.Cause\"\220"
+    "\001\n\005Cause\022\037\n\033LOGICAL_TIME_ALREADY_PASSED\020"
+    "\001\022\037\n\033FEDERATE_UNABLE_TO_USE_TIME\020\002\022\024\n\020SA"
+    "VE_IN_PROGRESS\020\003\022\027\n\023RESTORE_IN_PROGRESS\020"
+    "\004\022\026\n\022RTI_INTERNAL_ERROR\020\005\"\200\002\n\033AbortFeder"
+    "ationSaveResponse\022\021\n\trequestId\030\001 \002(\004\022M\n\007"
+    "failure\030\002 \001(\0132<.ohla.rti.messages.proto."
+    "AbortFederationSaveResponse.Failure\032\177\n\007F"
+    "ailure\022Q\n\005cause\030\001 \002(\0162B.ohla.rti.message"
+    "s.proto.AbortFederationSaveResponse.Fail"
+    "ure.Cause\"!\n\005Cause\022\030\n\024SAVE_NOT_IN_PROGRE"
+    "SS\020\001\"\275\002\n RequestFederationRestoreRespons"
+    "e\022\021\n\trequestId\030\001 \002(\004\022R\n\007failure\030\002 \001(\0132A."
+    "ohla.rti.messages.proto.RequestFederatio"
+    "nRestoreResponse.Failure\032\261\001\n\007Failure\022V\n\005"
+    "cause\030\001 \002(\0162G.ohla.rti.messages.proto.Re"
+    "questFederationRestoreResponse.Failure.C"
+    "ause\"N\n\005Cause\022\024\n\020SAVE_IN_PROGRESS\020\001\022\027\n\023R"
+    "ESTORE_IN_PROGRESS\020\002\022\026\n\022RTI_INTERNAL_ERR"
+    "OR\020\003\"\215\002\n\036AbortFederationRestoreResponse\022"
+    "\021\n\trequestId\030\001 \002(\004\022P\n\007failure\030\002 \001(\0132\?.oh"
+    "la.rti.messages.proto.AbortFederationRes"
+    "toreResponse.Failure\032\205\001\n\007Failure\022T\n\005caus"
+    "e\030\001 \002(\0162E.ohla.rti.messages.proto.AbortF"
+    "ederationRestoreResponse.Failure.Cause\"$"
+    "\n\005Cause\022\033\n\027RESTORE_NOT_IN_PROGRESS\020\001\"D\n&"
+    "ObjectInstanceNameReservationSucceeded\022\032"
+    "\n\022objectInstanceName\030\001 \002(\t\"A\n#ObjectInst"
+    "anceNameReservationFailed\022\032\n\022objectInsta"
+    "nceName\030\001 \002(\t\"M\n.MultipleObjectInstanceN"
+    "ameReservationSucceeded\022\033\n\023objectInstanc"
+    "eNames\030\001 \003(\t\"J\n+MultipleObjectInstanceNa"
+    "meReservationFailed\022\033\n\023objectInstanceNam"
+    "es\030\001 \003(\t\"\177\n#ReportInteractionTransportat"
+    "ionType\022\036\n\026interactionClassHandle\030\001 \002(\r\022"
+    "\026\n\016federateHandle\030\002 \002(\r\022 \n\030transportatio"
+    "nTypeHandle\030\003 \002(\r\"\344\002\n\031GetFederateHandleR"
+    "esponse\022\021\n\trequestId\030\001 \002(\004\022K\n\007success\030\002 "
+    "\001(\0132:.ohla.rti.messages.proto.GetFederat"
+    "eHandleResponse.Success\022K\n\007failure\030\003 \001(\013"
+    "2:.ohla.rti.messages.proto.GetFederateHa"
+    "ndleResponse.Failure\032!\n\007Success\022\026\n\016feder"
+    "ateHandle\030\001 \002(\r\032w\n\007Failure\022O\n\005cause\030\001 \002("
+    "\0162@.ohla.rti.messages.proto.GetFederateH"
+    "andleResponse.Failure.Cause\"\033\n\005Cause\022\022\n\016"
+    "NAME_NOT_FOUND\020\001\"\346\002\n\027GetFederateNameResp"
+    "onse\022\021\n\trequestId\030\001 \002(\004\022I\n\007success\030\002 \001(\013"
+    "28.ohla.rti.messages.proto.GetFederateNa"
+    "meResponse.Success\022I\n\007failure\030\003 \001(\01328.oh"
+    "la.rti.messages.proto.GetFederateNameRes"
+    "ponse.Failure\032\037\n\007Success\022\024\n\014federateName"
+    "\030\001 \002(\t\032\200\001\n\007Failure\022M\n\005cause\030\001 \002(\0162>.ohla"
+    ".rti.messages.proto.GetFederateNameRespo"
+    "nse.Failure.Cause\"&\n\005Cause\022\035\n\031FEDERATE_H"
+    "ANDLE_NOT_KNOWN\020\001\"\240\003\n&GetUpdateRateValue"
+    "ForAttributeResponse\022\021\n\trequestId\030\001 \002(\004\022"
+    "X\n\007success\030\002 \001(\0132G.ohla.rti.messages.pro"
+    "to.GetUpdateRateValueForAttributeRespons"
+    "e.Success\022X\n\007failure\030\003 \001(\0132G.ohla.rti.me"
+    "ssages.proto.GetUpdateRateValueForAttrib"
+    "uteResponse.Failure\032\035\n\007Success\022\022\n\nupdate"
+    "Rate\030\001 \002(\001\032\217\001\n\007Failure\022\\\n\005cause\030\002 \002(\0162M."
+    "ohla.rti.messages.proto.GetUpdateRateVal"
+    "ueForAttributeResponse.Failure.Cause\"&\n\005"
+    "Cause\022\035\n\031OBJECT_INSTANCE_NOT_KNOWN\020\001\"\\\n-"
+    "AttributeOwnershipDivestitureIfWantedRes"
+    "ponse\022\021\n\trequestId\030\001 \002(\004\022\030\n\020attributeHan"
+    "dles\030\002 \003(\r\"4\n\021QueryGALTResponse\022\021\n\treque"
+    "stId\030\001 \002(\004\022\014\n\004galt\030\002 \001(\014\"4\n\021QueryLITSRes"
+    "ponse\022\021\n\trequestId\030\001 \002(\004\022\014\n\004lits\030\002 \001(\014\"\362"
+    "\001\n\017RetractResponse\022\021\n\trequestId\030\001 \002(\004\022A\n"
+    "\007failure\030\002 \001(\01320.ohla.rti.messages.proto"
+    ".RetractResponse.Failure\032\210\001\n\007Failure\022E\n\005"
+    "cause\030\001 \002(\01626.ohla.rti.messages.proto.Re"
+    "tractResponse.Failure.Cause\"6\n\005Cause\022\024\n\020"
+    "SAVE_IN_PROGRESS\020\001\022\027\n\023RESTORE_IN_PROGRES"
+    "S\020\002\"\261\002\n\"AssociateRegionsForUpdatesRespon"
+    "se\022\021\n\trequestId\030\001 \002(\004\022T\n\007failure\030\002 \001(\0132C"
+    ".ohla.rti.messages.proto.AssociateRegion"
+    "sForUpdatesResponse.Failure\032\241\001\n\007Failure\022"
+    "X\n\005cause\030\001 \002(\0162I.ohla.rti.messages.proto"
+    ".AssociateRegionsForUpdatesResponse.Fail"
+    "ure.Cause\"<\n\005Cause\022\024\n\020SAVE_IN_PROGRESS\020\001"
+    "\022\035\n\031OBJECT_INSTANCE_NOT_KNOWN\020\002\"\267\002\n$Unas"
+    "sociateRegionsForUpdatesResponse\022\021\n\trequ"
+    "estId\030\001 \002(\004\022V\n\007failure\030\002 \001(\0132E.ohla.rti."
+    "messages.proto.UnassociateRegionsForUpda"
+    "tesResponse.Failure\032\243\001\n\007Failure\022Z\n\005cause"
+    "\030\001 \002(\0162K.ohla.rti.messages.proto.Unassoc"
+    "iateRegionsForUpdatesResponse.Failure.Ca"
+    "use\"<\n\005Cause\022\024\n\020SAVE_IN_PROGRESS\020\001\022\035\n\031OB"
+    "JECT_INSTANCE_NOT_KNOWN\020\002\":\n)Synchroniza"
+    "tionPointRegistrationSucceeded\022\r\n\005label\030"
+    "\001 \002(\t\"\236\001\n&SynchronizationPointRegistrati"
+    "onFailed\022\r\n\005label\030\001 \002(\t\022e\n!synchronizati"
+    "onPointFailureReason\030\002 \002(\0162:.ohla.rti.me"
+    "ssages.proto.SynchronizationPointFailure"
+    "Reason\":\n\034AnnounceSynchronizationPoint\022\r"
+    "\n\005label\030\001 \002(\t\022\013\n\003tag\030\002 \001(\014\"W\n\026Federation"
+    "Synchronized\022\r\n\005label\030\001 \002(\t\022.\n&federateH"
+    "andlesThatFailedToSynchronize\030\002 \003(\r\"3\n\024I"
+    "nitiateFederateSave\022\r\n\005label\030\001 \002(\t\022\014\n\004ti"
+    "me\030\002 \001(\014\"\021\n\017FederationSaved\"[\n\022Federatio"
+    "nNotSaved\022E\n\021saveFailureReason\030\001 \002(\0162*.o"
+    "hla.rti.messages.proto.SaveFailureReason"
+    "\"e\n\022FederateSaveStatus\022\026\n\016federateHandle"
+    "\030\001 \002(\r\0227\n\nsaveStatus\030\002 \002(\0162#.ohla.rti.me"
+    "ssages.proto.SaveStatus\"i\n\034FederationSav"
+    "eStatusResponse\022I\n\024federationSaveStatus\030"
+    "\001 \003(\0132+.ohla.rti.messages.proto.Federate"
+    "SaveStatus\"2\n!RequestFederationRestoreSu"
+    "cceeded\022\r\n\005label\030\001 \002(\t\"/\n\036RequestFederat"
+    "ionRestoreFailed\022\r\n\005label\030\001 \002(\t\"U\n\026Feder"
+    "ationRestoreBegun\022\r\n\005label\030\001 \002(\t\022\024\n\014fede"
+    "rateName\030\002 \002(\t\022\026\n\016federateHandle\030\003 \002(\r\"\031"
+    "\n\027InitiateFederateRestore\"\024\n\022FederationR"
+    "estored\"d\n\025FederationNotRestored\022K\n\024rest"
+    "oreFailureReason\030\001 \002(\0162-.ohla.rti.messag"
+    "es.proto.RestoreFailureReason\"\233\001\n\025Federa"
+    "teRestoreStatus\022 \n\030preRestoreFederateHan"
+    "dle\030\001 \002(\r\022!\n\031postRestoreFederateHandle\030\002"
+    " \001(\r\022=\n\rrestoreStatus\030\003 \002(\0162&.ohla.rti.m"
+    "essages.proto.RestoreStatus\"r\n\037Federatio"
+    "nRestoreStatusResponse\022O\n\027federationRest"
+    "oreStatus\030\001 \003(\0132..ohla.rti.messages.prot"
+    "o.FederateRestoreStatus\"<\n\037StartRegistra"
+    "tionForObjectClass\022\031\n\021objectClassHandle\030"
+    "\001 \002(\r\";\n\036StopRegistrationForObjectClass\022"
+    "\031\n\021objectClassHandle\030\001 \002(\r\"4\n\022TurnIntera"
+    "ctionsOn\022\036\n\026interactionClassHandle\030\001 \002(\r"
+    "\"5\n\023TurnInteractionsOff\022\036\n\026interactionCl"
+    "assHandle\030\001 \002(\r\"\264\001\n\026DiscoverObjectInstan"
+    "ce\022B\n\024objectInstanceHandle\030\001 \002(\0132$.ohla."
+    "rti.proto.ObjectInstanceHandle\022\031\n\021object"
+    "ClassHandle\030\002 \002(\r\022\032\n\022objectInstanceName\030"
+    "\003 \002(\t\022\037\n\027producingFederateHandle\030\004 \002(\r\"K"
+    "\n\006Region\022A\n\024dimensionRangeBounds\030\001 \003(\0132#"
+    ".ohla.rti.proto.DimensionRangeBound\"\340\003\n\026"
+    "ReflectAttributeValues\022B\n\024objectInstance"
+    "Handle\030\001 \002(\0132$.ohla.rti.proto.ObjectInst"
+    "anceHandle\022@\n\017attributeValues\030\002 \003(\0132\'.oh"
+    "la.rti.messages.proto.AttributeValue\022\013\n\003"
+    "tag\030\003 \001(\014\0220\n\rsentOrderType\030\004 \002(\0162\031.ohla."
+    "rti.proto.OrderType\0224\n\021receivedOrderType"
+    "\030\005 \002(\0162\031.ohla.rti.proto.OrderType\022 \n\030tra"
+    "nsportationTypeHandle\030\006 \002(\r\022\014\n\004time\030\007 \001("
+    "\014\022H\n\027messageRetractionHandle\030\010 \001(\0132\'.ohl"
+    "a.rti.proto.MessageRetractionHandle\022\037\n\027p"
+    "roducingFederateHandle\030\t \002(\r\0220\n\007regions\030"
+    "\n \003(\0132\037.ohla.rti.messages.proto.Region\"\310"
+    "\002\n\024RemoveObjectInstance\022B\n\024objectInstanc"
+    "eHandle\030\001 \002(\0132$.ohla.rti.proto.ObjectIns"
+    "tanceHandle\022\013\n\003tag\030\002 \001(\014\0220\n\rsentOrderTyp"
+    "e\030\003 \002(\0162\031.ohla.rti.proto.OrderType\0224\n\021re"
+    "ceivedOrderType\030\004 \002(\0162\031.ohla.rti.proto.O"
+    "rderType\022\014\n\004time\030\005 \001(\014\022H\n\027messageRetract"
+    "ionHandle\030\006 \001(\0132\'.ohla.rti.proto.Message"
+    "RetractionHandle\022\037\n\027producingFederateHan"
+    "dle\030\007 \002(\r\"q\n\021AttributesInScope\022B\n\024object"
+    "InstanceHandle\030\001 \002(\0132$.ohla.rti.proto.Ob"
+    "jectInstanceHandle\022\030\n\020attributeHandles\030\002"
+    " \003(\r\"t\n\024AttributesOutOfScope\022B\n\024objectIn"
+    "stanceHandle\030\001 \002(\0132$.ohla.rti.proto.Obje"
+    "ctInstanceHandle\022\030\n\020attributeHandles\030\002 \003"
+    "(\r\"\210\001\n\033ProvideAttributeValueUpdate\022B\n\024ob"
+    "jectInstanceHandle\030\001 \002(\0132$.ohla.rti.prot"
+    "o.ObjectInstanceHandle\022\030\n\020attributeHandl"
+    "es\030\002 \003(\r\022\013\n\003tag\030\003 \001(\014\"\234\001\n\036TurnUpdatesOnF"
+    "orObjectInstance\022B\n\024objectInstanceHandle"
+    "\030\001 \002(\0132$.ohla.rti.proto.ObjectInstanceHa"
+    "ndle\022\030\n\020attributeHandles\030\002 \003(\r\022\034\n\024update"
+    "RateDesignator\030\003 \002(\t\"\177\n\037TurnUpdatesOffFo"
+    "rObjectInstance\022B\n\024objectInstanceHandle\030"
+    "\001 \002(\0132$.ohla.rti.proto.ObjectInstanceHan"
+    "dle\022\030\n\020attributeHandles\030\002 \003(\r\"\270\003\n\022Receiv"
+    "eInteraction\022\036\n\026interactionClassHandle\030\001"
+    " \002(\r\022@\n\017parameterValues\030\002 \003(\0132\'.ohla.rti"
+    ".messages.proto.ParameterValue\022\013\n\003tag\030\003 "
+    "\001(\014\0220\n\rsentOrderType\030\004 \002(\0162\031.ohla.rti.pr"
+    "oto.OrderType\0224\n\021receivedOrderType\030\005 \002(\016"
+    "2\031.ohla.rti.proto.OrderType\022 \n\030transport"
+    "ationTypeHandle\030\006 \002(\r\022\014\n\004time\030\007 \001(\014\022H\n\027m"
+    "essageRetractionHandle\030\010 \001(\0132\'.ohla.rti."
+    "proto.MessageRetractionHandle\022\037\n\027produci"
+    "ngFederateHandle\030\t \002(\r\0220\n\007regions\030\n \003(\0132"
+    "\037.ohla.rti.messages.proto.Region\"\220\001\n#Req"
+    "uestAttributeOwnershipAssumption\022B\n\024obje"
+    "ctInstanceHandle\030\001 \002(\0132$.ohla.rti.proto."
+    "ObjectInstanceHandle\022\030\n\020attributeHandles"
+    "\030\002 \003(\r\022\013\n\003tag\030\003 \001(\014\"~\n\036RequestDivestitur"
+    "eConfirmation\022B\n\024objectInstanceHandle\030\001 "
+    "\002(\0132$.ohla.rti.proto.ObjectInstanceHandl"
+    "e\022\030\n\020attributeHandles\030\002 \003(\r\"\226\001\n)Attribut"
+    "eOwnershipAcquisitionNotification\022B\n\024obj"
+    "ectInstanceHandle\030\001 \002(\0132$.ohla.rti.proto"
+    ".ObjectInstanceHandle\022\030\n\020attributeHandle"
+    "s\030\002 \003(\r\022\013\n\003tag\030\003 \001(\014\"}\n\035AttributeOwnersh"
+    "ipUnavailable\022B\n\024objectInstanceHandle\030\001 "
+    "\002(\0132$.ohla.rti.proto.ObjectInstanceHandl"
+    "e\022\030\n\020attributeHandles\030\002 \003(\r\"\215\001\n RequestA"
+    "ttributeOwnershipRelease\022B\n\024objectInstan"
+    "ceHandle\030\001 \002(\0132$.ohla.rti.proto.ObjectIn"
+    "stanceHandle\022\030\n\020attributeHandles\030\002 \003(\r\022\013"
+    "\n\003tag\030\003 \001(\014\"\220\001\n0ConfirmAttributeOwnershi"
+    "pAcquisitionCancellation\022B\n\024objectInstan"
+    "ceHandle\030\001 \002(\0132$.ohla.rti.proto.ObjectIn"
+    "stanceHandle\022\030\n\020attributeHandles\030\002 \003(\r\"\217"
+    "\001\n\030InformAttributeOwnership\022B\n\024objectIns"
+    "tanceHandle\030\001 \002(\0132$.ohla.rti.proto.Objec"
+    "tInstanceHandle\022\027\n\017attributeHandle\030\002 \002(\r"
+    "\022\026\n\016federateHandle\030\003 \002(\r\"r\n\023AttributeIsN"
+    "otOwned\022B\n\024objectInstanceHandle\030\001 \002(\0132$."
+    "ohla.rti.proto.ObjectInstanceHandle\022\027\n\017a"
+    "ttributeHandle\030\002 \002(\r\"t\n\025AttributeIsOwned"
+    "ByRTI\022B\n\024objectInstanceHandle\030\001 \002(\0132$.oh"
+    "la.rti.proto.ObjectInstanceHandle\022\027\n\017att"
+    "ributeHandle\030\002 \002(\r\"%\n\025TimeRegulationEnab"
+    "led\022\014\n\004time\030\001 \002(\014\"&\n\026TimeConstrainedEnab"
+    "led\022\014\n\004time\030\001 \002(\014\" \n\020TimeAdvanceGrant\022\014\n"
+    "\004time\030\001 \002(\014\"]\n\021RequestRetraction\022H\n\027mess"
+    "ageRetractionHandle\030\001 \002(\0132\'.ohla.rti.pro"
+    "to.MessageRetractionHandle\"\035\n\033ResignedFe"
+    "derationExecution*z\n!SynchronizationPoin"
+    "tFailureReason\022*\n&SYNCHRONIZATION_POINT_"
+    "LABEL_NOT_UNIQUE\020\001\022)\n%SYNCHRONIZATION_SE"
+    "T_MEMBER_NOT_JOINED\020\002*\322\001\n\021SaveFailureRea"
+    "son\022\026\n\022RTI_UNABLE_TO_SAVE\020\001\022)\n%FEDERATE_"
+    "REPORTED_FAILURE_DURING_SAVE\020\002\022!\n\035FEDERA"
+    "TE_RESIGNED_DURING_SAVE\020\003\022$\n RTI_DETECTE"
+    "D_FAILURE_DURING_SAVE\020\004\022\037\n\033SAVE_TIME_CAN"
+    "NOT_BE_HONORED\020\005\022\020\n\014SAVE_ABORTED\020\006*\210\001\n\nS"
+    "aveStatus\022\027\n\023NO_SAVE_IN_PROGRESS\020\001\022\037\n\033FE"
+    "DERATE_INSTRUCTED_TO_SAVE\020\002\022\023\n\017FEDERATE_"
+    "SAVING\020\003\022+\n\'FEDERATE_WAITING_FOR_FEDERAT"
+    "ION_TO_SAVE\020\004*\303\001\n\024RestoreFailureReason\022\031"
+    "\n\025RTI_UNABLE_TO_RESTORE\020\001\022,\n(FEDERATE_RE"
+    "PORTED_FAILURE_DURING_RESTORE\020\002\022$\n FEDER"
+    "ATE_RESIGNED_DURING_RESTORE\020\003\022\'\n#RTI_DET"
+    "ECTED_FAILURE_DURING_RESTORE\020\004\022\023\n\017RESTOR"
+    "E_ABORTED\020\005*\346\001\n\rRestoreStatus\022\032\n\026NO_REST"
+    "ORE_IN_PROGRESS\020\001\022$\n FEDERATE_RESTORE_RE"
+    "QUEST_PENDING\020\002\022)\n%FEDERATE_WAITING_FOR_"
+    "RESTORE_TO_BEGIN\020\003\022 \n\034FEDERATE_PREPARED_"
+    "TO_RESTORE\020\004\022\026\n\022FEDERATE_RESTORING\020\005\022.\n*"
+    "FEDERATE_WAITING_FOR_FEDERATION_TO_RESTO"
+    "RE\020\006B \n\036net.sf.ohla.rti.messages.proto", 10758);
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
+    "FederateMessageProtos.proto", &protobuf_RegisterTypes);
+  FDDUpdated::default_instance_ = new FDDUpdated();
+  JoinFederationExecutionResponse::default_instance_ = new JoinFederationExecutionResponse();
+  JoinFederationExecutionResponse_Success::default_instance_ = new JoinFederationExecutionResponse_Success();
+  JoinFederationExecutionResponse_Failure::default_instance_ = new JoinFederationExecutionResponse_Failure();
+  RequestFederationSaveResponse::default_instance_ = new RequestFederationSaveResponse();
+  RequestFederationSaveResponse_Failure::default_instance_ = new RequestFederationSaveResponse_Failure();
+  AbortFederationSaveResponse::default_instance_ = new AbortFederationSaveResponse();
+  AbortFederationSaveResponse_Failure::default_instance_ = new AbortFederationSaveResponse_Failure();
+  RequestFederationRestoreResponse::default_instance_ = new RequestFederationRestoreResponse();
+  RequestFederationRestoreResponse_Failure::default_instance_ = new RequestFederationRestoreResponse_Failure();
+  AbortFederationRestoreResponse::default_instance_ = new AbortFederationRestoreResponse();
+  AbortFederationRestoreResponse_Failure::default_instance_ = new AbortFederationRestoreResponse_Failure();
+  ObjectInstanceNameReservationSucceeded::default_instance_ = new ObjectInstanceNameReservationSucceeded();
+  ObjectInstanceNameReservationFailed::default_instance_ = new ObjectInstanceNameReservationFailed();
+  MultipleObjectInstanceNameReservationSucceeded::default_instance_ = new MultipleObjectInstanceNameReservationSucceeded();
+  MultipleObjectInstanceNameReservationFailed::default_instance_ = new MultipleObjectInstanceNameReservationFailed();
+  ReportInteractionTransportationType::default_instance_ = new ReportInteractionTransportationType();
+  GetFederateHandleResponse::default_instance_ = new GetFederateHandleResponse();
+  GetFederateHandleResponse_Success::default_instance_ = new GetFederateHandleResponse_Success();
+  GetFederateHandleResponse_Failure::default_instance_ = new GetFederateHandleResponse_Failure();
+  GetFederateNameResponse::default_instance_ = new GetFederateNameResponse();
+  GetFederateNameResponse_Success::default_instance_ = new GetFederateNameResponse_Success();
+  GetFederateNameResponse_Failure::default_instance_ = new GetFederateNameResponse_Failure();
+  GetUpdateRateValueForAttributeResponse::default_instance_ = new GetUpdateRateValueForAttributeResponse();
+  GetUpdateRateValueForAttributeResponse_Success::default_instance_ = new GetUpdateRateValueForAttributeResponse_Success();
+  GetUpdateRateValueForAttributeResponse_Failure::default_instance_ = new GetUpdateRateValueForAttributeResponse_Failure();
+  AttributeOwnershipDivestitureIfWantedResponse::default_instance_ = new AttributeOwnershipDivestitureIfWantedResponse();
+  QueryGALTResponse::default_instance_ = new QueryGALTResponse();
+  QueryLITSResponse::default_instance_ = new QueryLITSResponse();
+  RetractResponse::default_instance_ = new RetractResponse();
+  RetractResponse_Failure::default_instance_ = new RetractResponse_Failure();
+  AssociateRegionsForUpdatesResponse::default_instance_ = new AssociateRegionsForUpdatesResponse();
+  AssociateRegionsForUpdatesResponse_Failure::default_instance_ = new AssociateRegionsForUpdatesResponse_Failure();
+  UnassociateRegionsForUpdatesResponse::default_instance_ = new UnassociateRegionsForUpdatesResponse();
+  UnassociateRegionsForUpdatesResponse_Failure::default_instance_ = new UnassociateRegionsForUpdatesResponse_Failure();
+  SynchronizationPointRegistrationSucceeded::default_instance_ = new SynchronizationPointRegistrationSucceeded();
+  SynchronizationPointRegistrationFailed::default_instance_ = new SynchronizationPointRegistrationFailed();
+  AnnounceSynchronizationPoint::default_instance_ = new AnnounceSynchronizationPoint();
+  FederationSynchronized::default_instance_ = new FederationSynchronized();
+  InitiateFederateSave::default_instance_ = new InitiateFederateSave();
+  FederationSaved::default_instance_ = new FederationSaved();
+  FederationNotSaved::default_instance_ = new FederationNotSaved();
+  FederateSaveStatus::default_instance_ = new FederateSaveStatus();
+  FederationSaveStatusResponse::default_instance_ = new FederationSaveStatusResponse();
+  RequestFederationRestoreSucceeded::default_instance_ = new RequestFederationRestoreSucceeded();
+  RequestFederationRestoreFailed::default_instance_ = new RequestFederationRestoreFailed();
+  FederationRestoreBegun::default_instance_ = new FederationRestoreBegun();
+  InitiateFederateRestore::default_instance_ = new InitiateFederateRestore();
+  FederationRestored::default_instance_ = new FederationRestored();
+  FederationNotRestored::default_instance_ = new FederationNotRestored();
+  FederateRestoreStatus::default_instance_ = new FederateRestoreStatus();
+  FederationRestoreStatusResponse::default_instance_ = new FederationRestoreStatusResponse();
+  StartRegistrationForObjectClass::default_instance_ = new StartRegistrationForObjectClass();
+  StopRegistrationForObjectClass::default_instance_ = new StopRegistrationForObjectClass();
+  TurnInteractionsOn::default_instance_ = new TurnInteractionsOn();
+  TurnInteractionsOff::default_instance_ = new TurnInteractionsOff();
+  DiscoverObjectInstance::default_instance_ = new DiscoverObjectInstance();
+  Region::default_instance_ = new Region();
+  ReflectAttributeValues::default_instance_ = new ReflectAttributeValues();
+  RemoveObjectInstance::default_instance_ = new RemoveObjectInstance();
+  AttributesInScope::default_instance_ = new AttributesInScope();
+  AttributesOutOfScope::default_instance_ = new AttributesOutOfScope();
+  ProvideAttributeValueUpdate::default_instance_ = new ProvideAttributeValueUpdate();
+  TurnUpdatesOnForObjectInstance::default_instance_ = new TurnUpdatesOnForObjectInstance();
+  TurnUpdatesOffForObjectInstance::default_instance_ = new TurnUpdatesOffForObjectInstance();
+  ReceiveInteraction::default_instance_ = new ReceiveInteraction();
+  RequestAttributeOwnershipAssumption::default_instance_ = new RequestAttributeOwnershipAssumption();
+  RequestDivestitureConfirmation::default_instance_ = new RequestDivestitureConfirmation();
+  AttributeOwnershipAcquisitionNotification::default_instance_ = new AttributeOwnershipAcquisitionNotification();
+  AttributeOwnershipUnavailable::default_instance_ = new AttributeOwnershipUnavailable();
+  RequestAttributeOwnershipRelease::default_instance_ = new RequestAttributeOwnershipRelease();
+  ConfirmAttributeOwnershipAcquisitionCancellation::default_instance_ = new ConfirmAttributeOwnershipAcquisitionCancellation();
+  InformAttributeOwnership::default_instance_ = new InformAttributeOwnership();
+  AttributeIsNotOwned::default_instance_ = new AttributeIsNotOwned();
+  AttributeIsOwnedByRTI::default_instance_ = new AttributeIsOwnedByRTI();
+  TimeRegulationEnabled::default_instance_ = new TimeRegulationEnabled();
+  TimeConstrainedEnabled::default_instance_ = new TimeConstrainedEnabled();
+  TimeAdvanceGrant::default_instance_ = new TimeAdvanceGrant();
+  RequestRetraction::default_instance_ = new RequestRetraction();
+  ResignedFederationExecution::default_instance_ = new ResignedFederationExecution();
+  FDDUpdated::default_instance_->InitAsDefaultInstance();
+  JoinFederationExecutionResponse::default_instance_->InitAsDefaultInstance();
+  JoinFederationExecutionResponse_Success::default_instance_->InitAsDefaultInstance();
+  JoinFederationExecutionResponse_Failure::default_instance_->InitAsDefaultInstance();
+  RequestFederationSaveResponse::default_instance_->InitAsDefaultInstance();
+  RequestFederationSaveResponse_Failure::default_instance_->InitAsDefaultInstance();
+  AbortFederationSaveResponse::default_instance_->InitAsDefaultInstance();
+  AbortFederationSaveResponse_Failure::default_instance_->InitAsDefaultInstance();
+  RequestFederationRestoreResponse::default_instance_->InitAsDefaultInstance();
+  RequestFederationRestoreResponse_Failure::default_instance_->InitAsDefaultInstance();
+  AbortFederationRestoreResponse::default_instance_->InitAsDefaultInstance();
+  AbortFederationRestoreResponse_Failure::default_instance_->InitAsDefaultInstance();
+  ObjectInstanceNameReservationSucceeded::default_instance_->InitAsDefaultInstance();
+  ObjectInstanceNameReservationFailed::default_instance_->InitAsDefaultInstance();
+  MultipleObjectInstanceNameReservationSucceeded::default_instance_->InitAsDefaultInstance();
+  MultipleObjectInstanceNameReservationFailed::default_instance_->InitAsDefaultInstance();
+  ReportInteractionTransportationType::default_instance_->InitAsDefaultInstance();
+  GetFederateHandleResponse::default_instance_->InitAsDefaultInstance();
+  GetFederateHandleResponse_Success::default_instance_->InitAsDefaultInstance();
+  GetFederateHandleResponse_Failure::default_instance_->InitAsDefaultInstance();
+  GetFederateNameResponse::default_instance_->InitAsDefaultInstance();
+  GetFederateNameResponse_Success::default_instance_->InitAsDefaultInstance();
+  GetFederateNameResponse_Failure::default_instance_->InitAsDefaultInstance();
+  GetUpdateRateValueForAttributeResponse::default_instance_->InitAsDefaultInstance();
+  GetUpdateRateValueForAttributeResponse_Success::default_instance_->InitAsDefaultInstance();
+  GetUpdateRateValueForAttributeResponse_Failure::default_instance_->InitAsDefaultInstance();
+  AttributeOwnershipDivestitureIfWantedResponse::default_instance_->InitAsDefaultInstance();
+  QueryGALTResponse::default_instance_->InitAsDefaultInstance();
+  QueryLITSResponse::default_instance_->InitAsDefaultInstance();
+  RetractResponse::default_instance_->InitAsDefaultInstance();
+  RetractResponse_Failure::default_instance_->InitAsDefaultInstance();
+  AssociateRegionsForUpdatesResponse::default_instance_->InitAsDefaultInstance();
+  AssociateRegionsForUpdatesResponse_Failure::default_instance_->InitAsDefaultInstance();
+  UnassociateRegionsForUpdatesResponse::default_instance_->InitAsDefaultInstance();
+  UnassociateRegionsForUpdatesResponse_Failure::default_instance_->InitAsDefaultInstance();
+  SynchronizationPointRegistrationSucceeded::default_instance_->InitAsDefaultInstance();
+  SynchronizationPointRegistrationFailed::default_instance_->InitAsDefaultInstance();
+  AnnounceSynchronizationPoint::default_instance_->InitAsDefaultInstance();
+  FederationSynchronized::default_instance_->InitAsDefaultInstance();
+  InitiateFederateSave::default_instance_->InitAsDefaultInstance();
+  FederationSaved::default_instance_->InitAsDefaultInstance();
+  FederationNotSaved::default_instance_->InitAsDefaultInstance();
+  FederateSaveStatus::default_instance_->InitAsDefaultInstance();
+  FederationSaveStatusResponse::default_instance_->InitAsDefaultInstance();
+  RequestFederationRestoreSucceeded::default_instance_->InitAsDefaultInstance();
+  RequestFederationRestoreFailed::default_instance_->InitAsDefaultInstance();
+  FederationRestoreBegun::default_instance_->InitAsDefaultInstance();
+  InitiateFederateRestore::default_instance_->InitAsDefaultInstance();
+  FederationRestored::default_instance_->InitAsDefaultInstance();
+  FederationNotRestored::default_instance_->InitAsDefaultInstance();
+  FederateRestoreStatus::default_instance_->InitAsDefaultInstance();
+  FederationRestoreStatusResponse::default_instance_->InitAsDefaultInstance();
+  StartRegistrationForObjectClass::default_instance_->InitAsDefaultInstance();
+  StopRegistrationForObjectClass::default_instance_->InitAsDefaultInstance();
+  TurnInteractionsOn::default_instance_->InitAsDefaultInstance();
+  TurnInteractionsOff::default_instance_->InitAsDefaultInstance();
+  DiscoverObjectInstance::default_instance_->InitAsDefaultInstance();
+  Region::default_instance_->InitAsDefaultInstance();
+  ReflectAttributeValues::default_instance_->InitAsDefaultInstance();
+  RemoveObjectInstance::default_instance_->InitAsDefaultInstance();
+  AttributesInScope::default_instance_->InitAsDefaultInstance();
+  AttributesOutOfScope::default_instance_->InitAsDefaultInstance();
+  ProvideAttributeValueUpdate::default_instance_->InitAsDefaultInstance();
+  TurnUpdatesOnForObjectInstance::default_instance_->InitAsDefaultInstance();
+  TurnUpdatesOffForObjectInstance::default_instance_->InitAsDefaultInstance();
+  ReceiveInteraction::default_instance_->InitAsDefaultInstance();
+  RequestAttributeOwnershipAssumption::default_instance_->InitAsDefaultInstance();
+  RequestDivestitureConfirmation::default_instance_->InitAsDefaultInstance();
+  AttributeOwnershipAcquisitionNotification::default_instance_->InitAsDefaultInstance();
+  AttributeOwnershipUnavailable::default_instance_->InitAsDefaultInstance();
+  RequestAttributeOwnershipRelease::default_instance_->InitAsDefaultInstance();
+  ConfirmAttributeOwnershipAcquisitionCancellation::default_instance_->InitAsDefaultInstance();
+  InformAttributeOwnership::default_instance_->InitAsDefaultInstance();
+  AttributeIsNotOwned::default_instance_->InitAsDefaultInstance();
+  AttributeIsOwnedByRTI::default_instance_->InitAsDefaultInstance();
+  TimeRegulationEnabled::default_instance_->InitAsDefaultInstance();
+  TimeConstrainedEnabled::default_instance_->InitAsDefaultInstance();
+  TimeAdvanceGrant::default_instance_->InitAsDefaultInstance();
+  RequestRetraction::default_instance_->InitAsDefaultInstance();
+  ResignedFederationExecution::default_instance_->InitAsDefaultInstance();
+  ::google::protobuf::internal::OnShutdown(&protobuf_ShutdownFile_FederateMessageProtos_2eproto);
+}
+
+// Force AddDescriptors() to be called at static initialization time.
+struct StaticDescriptorInitializer_FederateMessageProtos_2eproto {
+  StaticDescriptorInitializer_FederateMessageProtos_2eproto() {
+    protobuf_AddDesc_FederateMessageProtos_2eproto();
+  }
+} static_descriptor_initializer_FederateMessageProtos_2eproto_;
+const ::google::protobuf::EnumDescriptor* SynchronizationPointFailureReason_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return SynchronizationPointFailureReason_descriptor_;
+}
+bool SynchronizationPointFailureReason_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+      return true;
+    default:
+      return false;
+  }
+}
+
+const ::google::protobuf::EnumDescriptor* SaveFailureReason_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return SaveFailureReason_descriptor_;
+}
+bool SaveFailureReason_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+    case 3:
+    case 4:
+    case 5:
+    case 6:
+      return true;
+    default:
+      return false;
+  }
+}
+
+const ::google::protobuf::EnumDescriptor* SaveStatus_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return SaveStatus_descriptor_;
+}
+bool SaveStatus_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+    case 3:
+    case 4:
+      return true;
+    default:
+      return false;
+  }
+}
+
+const ::google::protobuf::EnumDescriptor* RestoreFailureReason_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RestoreFailureReason_descriptor_;
+}
+bool RestoreFailureReason_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+    case 3:
+    case 4:
+    case 5:
+      return true;
+    default:
+      return false;
+  }
+}
+
+const ::google::protobuf::EnumDescriptor* RestoreStatus_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RestoreStatus_descriptor_;
+}
+bool RestoreStatus_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+    case 3:
+    case 4:
+    case 5:
+    case 6:
+      return true;
+    default:
+      return false;
+  }
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FDDUpdated::kFddFieldNumber;
+#endif  // !_MSC_VER
+
+FDDUpdated::FDDUpdated()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FDDUpdated::InitAsDefaultInstance() {
+  fdd_ = const_cast< ::ohla::rti::proto::FDD*>(&::ohla::rti::proto::FDD::default_instance());
+}
+
+FDDUpdated::FDDUpdated(const FDDUpdated& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FDDUpdated::SharedCtor() {
+  _cached_size_ = 0;
+  fdd_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FDDUpdated::~FDDUpdated() {
+  SharedDtor();
+}
+
+void FDDUpdated::SharedDtor() {
+  if (this != default_instance_) {
+    delete fdd_;
+  }
+}
+
+void FDDUpdated::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FDDUpdated::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FDDUpdated_descriptor_;
+}
+
+const FDDUpdated& FDDUpdated::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FDDUpdated* FDDUpdated::default_instance_ = NULL;
+
+FDDUpdated* FDDUpdated::New() const {
+  return new FDDUpdated;
+}
+
+void FDDUpdated::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_fdd()) {
+      if (fdd_ != NULL) fdd_->::ohla::rti::proto::FDD::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FDDUpdated::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.FDD fdd = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_fdd()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FDDUpdated::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.FDD fdd = 1;
+  if (has_fdd()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->fdd(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FDDUpdated::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.FDD fdd = 1;
+  if (has_fdd()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->fdd(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FDDUpdated::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.FDD fdd = 1;
+    if (has_fdd()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->fdd());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FDDUpdated::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FDDUpdated* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FDDUpdated*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FDDUpdated::MergeFrom(const FDDUpdated& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_fdd()) {
+      mutable_fdd()->::ohla::rti::proto::FDD::MergeFrom(from.fdd());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FDDUpdated::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FDDUpdated::CopyFrom(const FDDUpdated& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FDDUpdated::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_fdd()) {
+    if (!this->fdd().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FDDUpdated::Swap(FDDUpdated* other) {
+  if (other != this) {
+    std::swap(fdd_, other->fdd_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FDDUpdated::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FDDUpdated_descriptor_;
+  metadata.reflection = FDDUpdated_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int JoinFederationExecutionResponse_Success::kFederateNameFieldNumber;
+const int JoinFederationExecutionResponse_Success::kFederateHandleFieldNumber;
+const int JoinFederationExecutionResponse_Success::kFddFieldNumber;
+const int JoinFederationExecutionResponse_Success::kLogicalTimeImplementationNameFieldNumber;
+#endif  // !_MSC_VER
+
+JoinFederationExecutionResponse_Success::JoinFederationExecutionResponse_Success()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void JoinFederationExecutionResponse_Success::InitAsDefaultInstance() {
+  fdd_ = const_cast< ::ohla::rti::proto::FDD*>(&::ohla::rti::proto::FDD::default_instance());
+}
+
+JoinFederationExecutionResponse_Success::JoinFederationExecutionResponse_Success(const JoinFederationExecutionResponse_Success& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void JoinFederationExecutionResponse_Success::SharedCtor() {
+  _cached_size_ = 0;
+  federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  federatehandle_ = 0u;
+  fdd_ = NULL;
+  logicaltimeimplementationname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+JoinFederationExecutionResponse_Success::~JoinFederationExecutionResponse_Success() {
+  SharedDtor();
+}
+
+void JoinFederationExecutionResponse_Success::SharedDtor() {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatename_;
+  }
+  if (logicaltimeimplementationname_ != &::google::protobuf::internal::kEmptyString) {
+    delete logicaltimeimplementationname_;
+  }
+  if (this != default_instance_) {
+    delete fdd_;
+  }
+}
+
+void JoinFederationExecutionResponse_Success::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* JoinFederationExecutionResponse_Success::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return JoinFederationExecutionResponse_Success_descriptor_;
+}
+
+const JoinFederationExecutionResponse_Success& JoinFederationExecutionResponse_Success::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+JoinFederationExecutionResponse_Success* JoinFederationExecutionResponse_Success::default_instance_ = NULL;
+
+JoinFederationExecutionResponse_Success* JoinFederationExecutionResponse_Success::New() const {
+  return new JoinFederationExecutionResponse_Success;
+}
+
+void JoinFederationExecutionResponse_Success::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_federatename()) {
+      if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+        federatename_->clear();
+      }
+    }
+    federatehandle_ = 0u;
+    if (has_fdd()) {
+      if (fdd_ != NULL) fdd_->::ohla::rti::proto::FDD::Clear();
+    }
+    if (has_logicaltimeimplementationname()) {
+      if (logicaltimeimplementationname_ != &::google::protobuf::internal::kEmptyString) {
+        logicaltimeimplementationname_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool JoinFederationExecutionResponse_Success::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string federateName = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_federatename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->federatename().data(), this->federatename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_federateHandle;
+        break;
+      }
+
+      // required uint32 federateHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_federateHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatehandle_)));
+          set_has_federatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_fdd;
+        break;
+      }
+
+      // required .ohla.rti.proto.FDD fdd = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_fdd:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_fdd()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_logicalTimeImplementationName;
+        break;
+      }
+
+      // required string logicalTimeImplementationName = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_logicalTimeImplementationName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_logicaltimeimplementationname()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->logicaltimeimplementationname().data(), this->logicaltimeimplementationname().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void JoinFederationExecutionResponse_Success::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string federateName = 1;
+  if (has_federatename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatename().data(), this->federatename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->federatename(), output);
+  }
+
+  // required uint32 federateHandle = 2;
+  if (has_federatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->federatehandle(), output);
+  }
+
+  // required .ohla.rti.proto.FDD fdd = 3;
+  if (has_fdd()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->fdd(), output);
+  }
+
+  // required string logicalTimeImplementationName = 4;
+  if (has_logicaltimeimplementationname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->logicaltimeimplementationname().data(), this->logicaltimeimplementationname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      4, this->logicaltimeimplementationname(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* JoinFederationExecutionResponse_Success::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string federateName = 1;
+  if (has_federatename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatename().data(), this->federatename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->federatename(), target);
+  }
+
+  // required uint32 federateHandle = 2;
+  if (has_federatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->federatehandle(), target);
+  }
+
+  // required .ohla.rti.proto.FDD fdd = 3;
+  if (has_fdd()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->fdd(), target);
+  }
+
+  // required string logicalTimeImplementationName = 4;
+  if (has_logicaltimeimplementationname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->logicaltimeimplementationname().data(), this->logicaltimeimplementationname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        4, this->logicaltimeimplementationname(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int JoinFederationExecutionResponse_Success::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string federateName = 1;
+    if (has_federatename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->federatename());
+    }
+
+    // required uint32 federateHandle = 2;
+    if (has_federatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatehandle());
+    }
+
+    // required .ohla.rti.proto.FDD fdd = 3;
+    if (has_fdd()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->fdd());
+    }
+
+    // required string logicalTimeImplementationName = 4;
+    if (has_logicaltimeimplementationname()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->logicaltimeimplementationname());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void JoinFederationExecutionResponse_Success::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const JoinFederationExecutionResponse_Success* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const JoinFederationExecutionResponse_Success*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void JoinFederationExecutionResponse_Success::MergeFrom(const JoinFederationExecutionResponse_Success& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_federatename()) {
+      set_federatename(from.federatename());
+    }
+    if (from.has_federatehandle()) {
+      set_federatehandle(from.federatehandle());
+    }
+    if (from.has_fdd()) {
+      mutable_fdd()->::ohla::rti::proto::FDD::MergeFrom(from.fdd());
+    }
+    if (from.has_logicaltimeimplementationname()) {
+      set_logicaltimeimplementationname(from.logicaltimeimplementationname());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void JoinFederationExecutionResponse_Success::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void JoinFederationExecutionResponse_Success::CopyFrom(const JoinFederationExecutionResponse_Success& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool JoinFederationExecutionResponse_Success::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000000f) != 0x0000000f) return false;
+
+  if (has_fdd()) {
+    if (!this->fdd().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void JoinFederationExecutionResponse_Success::Swap(JoinFederationExecutionResponse_Success* other) {
+  if (other != this) {
+    std::swap(federatename_, other->federatename_);
+    std::swap(federatehandle_, other->federatehandle_);
+    std::swap(fdd_, other->fdd_);
+    std::swap(logicaltimeimplementationname_, other->logicaltimeimplementationname_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata JoinFederationExecutionResponse_Success::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = JoinFederationExecutionResponse_Success_descriptor_;
+  metadata.reflection = JoinFederationExecutionResponse_Success_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+const ::google::protobuf::EnumDescriptor* JoinFederationExecutionResponse_Failure_Cause_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return JoinFederationExecutionResponse_Failure_Cause_descriptor_;
+}
+bool JoinFederationExecutionResponse_Failure_Cause_IsValid(int value) {
+  switch(value) {
+    case 2:
+    case 3:
+    case 4:
+    case 5:
+    case 6:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const JoinFederationExecutionResponse_Failure_Cause JoinFederationExecutionResponse_Failure::FEDERATE_NAME_ALREADY_IN_USE;
+const JoinFederationExecutionResponse_Failure_Cause JoinFederationExecutionResponse_Failure::FEDERATION_EXECUTION_DOES_NOT_EXIST;
+const JoinFederationExecutionResponse_Failure_Cause JoinFederationExecutionResponse_Failure::SAVE_IN_PROGRESS;
+const JoinFederationExecutionResponse_Failure_Cause JoinFederationExecutionResponse_Failure::RESTORE_IN_PROGRESS;
+const JoinFederationExecutionResponse_Failure_Cause JoinFederationExecutionResponse_Failure::INCONSISTENT_FDD;
+const JoinFederationExecutionResponse_Failure_Cause JoinFederationExecutionResponse_Failure::Cause_MIN;
+const JoinFederationExecutionResponse_Failure_Cause JoinFederationExecutionResponse_Failure::Cause_MAX;
+const int JoinFederationExecutionResponse_Failure::Cause_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int JoinFederationExecutionResponse_Failure::kCauseFieldNumber;
+#endif  // !_MSC_VER
+
+JoinFederationExecutionResponse_Failure::JoinFederationExecutionResponse_Failure()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void JoinFederationExecutionResponse_Failure::InitAsDefaultInstance() {
+}
+
+JoinFederationExecutionResponse_Failure::JoinFederationExecutionResponse_Failure(const JoinFederationExecutionResponse_Failure& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void JoinFederationExecutionResponse_Failure::SharedCtor() {
+  _cached_size_ = 0;
+  cause_ = 2;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+JoinFederationExecutionResponse_Failure::~JoinFederationExecutionResponse_Failure() {
+  SharedDtor();
+}
+
+void JoinFederationExecutionResponse_Failure::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void JoinFederationExecutionResponse_Failure::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* JoinFederationExecutionResponse_Failure::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return JoinFederationExecutionResponse_Failure_descriptor_;
+}
+
+const JoinFederationExecutionResponse_Failure& JoinFederationExecutionResponse_Failure::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+JoinFederationExecutionResponse_Failure* JoinFederationExecutionResponse_Failure::default_instance_ = NULL;
+
+JoinFederationExecutionResponse_Failure* JoinFederationExecutionResponse_Failure::New() const {
+  return new JoinFederationExecutionResponse_Failure;
+}
+
+void JoinFederationExecutionResponse_Failure::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    cause_ = 2;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool JoinFederationExecutionResponse_Failure::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.JoinFederationExecutionResponse.Failure.Cause cause = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure_Cause_IsValid(value)) {
+            set_cause(static_cast< ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure_Cause >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void JoinFederationExecutionResponse_Failure::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.JoinFederationExecutionResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->cause(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* JoinFederationExecutionResponse_Failure::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.JoinFederationExecutionResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->cause(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int JoinFederationExecutionResponse_Failure::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.JoinFederationExecutionResponse.Failure.Cause cause = 1;
+    if (has_cause()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->cause());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void JoinFederationExecutionResponse_Failure::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const JoinFederationExecutionResponse_Failure* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const JoinFederationExecutionResponse_Failure*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void JoinFederationExecutionResponse_Failure::MergeFrom(const JoinFederationExecutionResponse_Failure& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_cause()) {
+      set_cause(from.cause());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void JoinFederationExecutionResponse_Failure::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void JoinFederationExecutionResponse_Failure::CopyFrom(const JoinFederationExecutionResponse_Failure& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool JoinFederationExecutionResponse_Failure::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void JoinFederationExecutionResponse_Failure::Swap(JoinFederationExecutionResponse_Failure* other) {
+  if (other != this) {
+    std::swap(cause_, other->cause_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata JoinFederationExecutionResponse_Failure::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = JoinFederationExecutionResponse_Failure_descriptor_;
+  metadata.reflection = JoinFederationExecutionResponse_Failure_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int JoinFederationExecutionResponse::kSuccessFieldNumber;
+const int JoinFederationExecutionResponse::kFailureFieldNumber;
+#endif  // !_MSC_VER
+
+JoinFederationExecutionResponse::JoinFederationExecutionResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void JoinFederationExecutionResponse::InitAsDefaultInstance() {
+  success_ = const_cast< ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success*>(&::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success::default_instance());
+  failure_ = const_cast< ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure*>(&::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure::default_instance());
+}
+
+JoinFederationExecutionResponse::JoinFederationExecutionResponse(const JoinFederationExecutionResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void JoinFederationExecutionResponse::SharedCtor() {
+  _cached_size_ = 0;
+  success_ = NULL;
+  failure_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+JoinFederationExecutionResponse::~JoinFederationExecutionResponse() {
+  SharedDtor();
+}
+
+void JoinFederationExecutionResponse::SharedDtor() {
+  if (this != default_instance_) {
+    delete success_;
+    delete failure_;
+  }
+}
+
+void JoinFederationExecutionResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* JoinFederationExecutionResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return JoinFederationExecutionResponse_descriptor_;
+}
+
+const JoinFederationExecutionResponse& JoinFederationExecutionResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+JoinFederationExecutionResponse* JoinFederationExecutionResponse::default_instance_ = NULL;
+
+JoinFederationExecutionResponse* JoinFederationExecutionResponse::New() const {
+  return new JoinFederationExecutionResponse;
+}
+
+void JoinFederationExecutionResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_success()) {
+      if (success_ != NULL) success_->::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success::Clear();
+    }
+    if (has_failure()) {
+      if (failure_ != NULL) failure_->::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool JoinFederationExecutionResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // optional .ohla.rti.messages.proto.JoinFederationExecutionResponse.Success success = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_success()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_failure;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.JoinFederationExecutionResponse.Failure failure = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_failure:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_failure()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void JoinFederationExecutionResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // optional .ohla.rti.messages.proto.JoinFederationExecutionResponse.Success success = 1;
+  if (has_success()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->success(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.JoinFederationExecutionResponse.Failure failure = 2;
+  if (has_failure()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->failure(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* JoinFederationExecutionResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // optional .ohla.rti.messages.proto.JoinFederationExecutionResponse.Success success = 1;
+  if (has_success()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->success(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.JoinFederationExecutionResponse.Failure failure = 2;
+  if (has_failure()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->failure(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int JoinFederationExecutionResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // optional .ohla.rti.messages.proto.JoinFederationExecutionResponse.Success success = 1;
+    if (has_success()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->success());
+    }
+
+    // optional .ohla.rti.messages.proto.JoinFederationExecutionResponse.Failure failure = 2;
+    if (has_failure()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->failure());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void JoinFederationExecutionResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const JoinFederationExecutionResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const JoinFederationExecutionResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void JoinFederationExecutionResponse::MergeFrom(const JoinFederationExecutionResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_success()) {
+      mutable_success()->::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success::MergeFrom(from.success());
+    }
+    if (from.has_failure()) {
+      mutable_failure()->::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure::MergeFrom(from.failure());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void JoinFederationExecutionResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void JoinFederationExecutionResponse::CopyFrom(const JoinFederationExecutionResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool JoinFederationExecutionResponse::IsInitialized() const {
+
+  if (has_success()) {
+    if (!this->success().IsInitialized()) return false;
+  }
+  if (has_failure()) {
+    if (!this->failure().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void JoinFederationExecutionResponse::Swap(JoinFederationExecutionResponse* other) {
+  if (other != this) {
+    std::swap(success_, other->success_);
+    std::swap(failure_, other->failure_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata JoinFederationExecutionResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = JoinFederationExecutionResponse_descriptor_;
+  metadata.reflection = JoinFederationExecutionResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+const ::google::protobuf::EnumDescriptor* RequestFederationSaveResponse_Failure_Cause_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestFederationSaveResponse_Failure_Cause_descriptor_;
+}
+bool RequestFederationSaveResponse_Failure_Cause_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+    case 3:
+    case 4:
+    case 5:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const RequestFederationSaveResponse_Failure_Cause RequestFederationSaveResponse_Failure::LOGICAL_TIME_ALREADY_PASSED;
+const RequestFederationSaveResponse_Failure_Cause RequestFederationSaveResponse_Failure::FEDERATE_UNABLE_TO_USE_TIME;
+const RequestFederationSaveResponse_Failure_Cause RequestFederationSaveResponse_Failure::SAVE_IN_PROGRESS;
+const RequestFederationSaveResponse_Failure_Cause RequestFederationSaveResponse_Failure::RESTORE_IN_PROGRESS;
+const RequestFederationSaveResponse_Failure_Cause RequestFederationSaveResponse_Failure::RTI_INTERNAL_ERROR;
+const RequestFederationSaveResponse_Failure_Cause RequestFederationSaveResponse_Failure::Cause_MIN;
+const RequestFederationSaveResponse_Failure_Cause RequestFederationSaveResponse_Failure::Cause_MAX;
+const int RequestFederationSaveResponse_Failure::Cause_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int RequestFederationSaveResponse_Failure::kCauseFieldNumber;
+#endif  // !_MSC_VER
+
+RequestFederationSaveResponse_Failure::RequestFederationSaveResponse_Failure()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestFederationSaveResponse_Failure::InitAsDefaultInstance() {
+}
+
+RequestFederationSaveResponse_Failure::RequestFederationSaveResponse_Failure(const RequestFederationSaveResponse_Failure& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestFederationSaveResponse_Failure::SharedCtor() {
+  _cached_size_ = 0;
+  cause_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestFederationSaveResponse_Failure::~RequestFederationSaveResponse_Failure() {
+  SharedDtor();
+}
+
+void RequestFederationSaveResponse_Failure::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void RequestFederationSaveResponse_Failure::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestFederationSaveResponse_Failure::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestFederationSaveResponse_Failure_descriptor_;
+}
+
+const RequestFederationSaveResponse_Failure& RequestFederationSaveResponse_Failure::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestFederationSaveResponse_Failure* RequestFederationSaveResponse_Failure::default_instance_ = NULL;
+
+RequestFederationSaveResponse_Failure* RequestFederationSaveResponse_Failure::New() const {
+  return new RequestFederationSaveResponse_Failure;
+}
+
+void RequestFederationSaveResponse_Failure::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    cause_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestFederationSaveResponse_Failure::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.RequestFederationSaveResponse.Failure.Cause cause = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure_Cause_IsValid(value)) {
+            set_cause(static_cast< ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure_Cause >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestFederationSaveResponse_Failure::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.RequestFederationSaveResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->cause(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestFederationSaveResponse_Failure::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.RequestFederationSaveResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->cause(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestFederationSaveResponse_Failure::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.RequestFederationSaveResponse.Failure.Cause cause = 1;
+    if (has_cause()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->cause());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestFederationSaveResponse_Failure::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestFederationSaveResponse_Failure* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestFederationSaveResponse_Failure*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestFederationSaveResponse_Failure::MergeFrom(const RequestFederationSaveResponse_Failure& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_cause()) {
+      set_cause(from.cause());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestFederationSaveResponse_Failure::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestFederationSaveResponse_Failure::CopyFrom(const RequestFederationSaveResponse_Failure& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestFederationSaveResponse_Failure::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void RequestFederationSaveResponse_Failure::Swap(RequestFederationSaveResponse_Failure* other) {
+  if (other != this) {
+    std::swap(cause_, other->cause_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestFederationSaveResponse_Failure::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestFederationSaveResponse_Failure_descriptor_;
+  metadata.reflection = RequestFederationSaveResponse_Failure_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int RequestFederationSaveResponse::kRequestIdFieldNumber;
+const int RequestFederationSaveResponse::kFailureFieldNumber;
+#endif  // !_MSC_VER
+
+RequestFederationSaveResponse::RequestFederationSaveResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestFederationSaveResponse::InitAsDefaultInstance() {
+  failure_ = const_cast< ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure*>(&::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure::default_instance());
+}
+
+RequestFederationSaveResponse::RequestFederationSaveResponse(const RequestFederationSaveResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestFederationSaveResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  failure_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestFederationSaveResponse::~RequestFederationSaveResponse() {
+  SharedDtor();
+}
+
+void RequestFederationSaveResponse::SharedDtor() {
+  if (this != default_instance_) {
+    delete failure_;
+  }
+}
+
+void RequestFederationSaveResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestFederationSaveResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestFederationSaveResponse_descriptor_;
+}
+
+const RequestFederationSaveResponse& RequestFederationSaveResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestFederationSaveResponse* RequestFederationSaveResponse::default_instance_ = NULL;
+
+RequestFederationSaveResponse* RequestFederationSaveResponse::New() const {
+  return new RequestFederationSaveResponse;
+}
+
+void RequestFederationSaveResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_failure()) {
+      if (failure_ != NULL) failure_->::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestFederationSaveResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_failure;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.RequestFederationSaveResponse.Failure failure = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_failure:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_failure()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestFederationSaveResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.RequestFederationSaveResponse.Failure failure = 2;
+  if (has_failure()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->failure(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestFederationSaveResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.RequestFederationSaveResponse.Failure failure = 2;
+  if (has_failure()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->failure(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestFederationSaveResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // optional .ohla.rti.messages.proto.RequestFederationSaveResponse.Failure failure = 2;
+    if (has_failure()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->failure());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestFederationSaveResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestFederationSaveResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestFederationSaveResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestFederationSaveResponse::MergeFrom(const RequestFederationSaveResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_failure()) {
+      mutable_failure()->::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure::MergeFrom(from.failure());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestFederationSaveResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestFederationSaveResponse::CopyFrom(const RequestFederationSaveResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestFederationSaveResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_failure()) {
+    if (!this->failure().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void RequestFederationSaveResponse::Swap(RequestFederationSaveResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(failure_, other->failure_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestFederationSaveResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestFederationSaveResponse_descriptor_;
+  metadata.reflection = RequestFederationSaveResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+const ::google::protobuf::EnumDescriptor* AbortFederationSaveResponse_Failure_Cause_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AbortFederationSaveResponse_Failure_Cause_descriptor_;
+}
+bool AbortFederationSaveResponse_Failure_Cause_IsValid(int value) {
+  switch(value) {
+    case 1:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const AbortFederationSaveResponse_Failure_Cause AbortFederationSaveResponse_Failure::SAVE_NOT_IN_PROGRESS;
+const AbortFederationSaveResponse_Failure_Cause AbortFederationSaveResponse_Failure::Cause_MIN;
+const AbortFederationSaveResponse_Failure_Cause AbortFederationSaveResponse_Failure::Cause_MAX;
+const int AbortFederationSaveResponse_Failure::Cause_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int AbortFederationSaveResponse_Failure::kCauseFieldNumber;
+#endif  // !_MSC_VER
+
+AbortFederationSaveResponse_Failure::AbortFederationSaveResponse_Failure()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AbortFederationSaveResponse_Failure::InitAsDefaultInstance() {
+}
+
+AbortFederationSaveResponse_Failure::AbortFederationSaveResponse_Failure(const AbortFederationSaveResponse_Failure& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AbortFederationSaveResponse_Failure::SharedCtor() {
+  _cached_size_ = 0;
+  cause_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AbortFederationSaveResponse_Failure::~AbortFederationSaveResponse_Failure() {
+  SharedDtor();
+}
+
+void AbortFederationSaveResponse_Failure::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void AbortFederationSaveResponse_Failure::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AbortFederationSaveResponse_Failure::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AbortFederationSaveResponse_Failure_descriptor_;
+}
+
+const AbortFederationSaveResponse_Failure& AbortFederationSaveResponse_Failure::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AbortFederationSaveResponse_Failure* AbortFederationSaveResponse_Failure::default_instance_ = NULL;
+
+AbortFederationSaveResponse_Failure* AbortFederationSaveResponse_Failure::New() const {
+  return new AbortFederationSaveResponse_Failure;
+}
+
+void AbortFederationSaveResponse_Failure::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    cause_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AbortFederationSaveResponse_Failure::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.AbortFederationSaveResponse.Failure.Cause cause = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure_Cause_IsValid(value)) {
+            set_cause(static_cast< ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure_Cause >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AbortFederationSaveResponse_Failure::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.AbortFederationSaveResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->cause(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AbortFederationSaveResponse_Failure::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.AbortFederationSaveResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->cause(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AbortFederationSaveResponse_Failure::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.AbortFederationSaveResponse.Failure.Cause cause = 1;
+    if (has_cause()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->cause());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AbortFederationSaveResponse_Failure::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AbortFederationSaveResponse_Failure* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AbortFederationSaveResponse_Failure*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AbortFederationSaveResponse_Failure::MergeFrom(const AbortFederationSaveResponse_Failure& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_cause()) {
+      set_cause(from.cause());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AbortFederationSaveResponse_Failure::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AbortFederationSaveResponse_Failure::CopyFrom(const AbortFederationSaveResponse_Failure& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AbortFederationSaveResponse_Failure::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void AbortFederationSaveResponse_Failure::Swap(AbortFederationSaveResponse_Failure* other) {
+  if (other != this) {
+    std::swap(cause_, other->cause_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AbortFederationSaveResponse_Failure::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AbortFederationSaveResponse_Failure_descriptor_;
+  metadata.reflection = AbortFederationSaveResponse_Failure_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int AbortFederationSaveResponse::kRequestIdFieldNumber;
+const int AbortFederationSaveResponse::kFailureFieldNumber;
+#endif  // !_MSC_VER
+
+AbortFederationSaveResponse::AbortFederationSaveResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AbortFederationSaveResponse::InitAsDefaultInstance() {
+  failure_ = const_cast< ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure*>(&::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure::default_instance());
+}
+
+AbortFederationSaveResponse::AbortFederationSaveResponse(const AbortFederationSaveResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AbortFederationSaveResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  failure_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AbortFederationSaveResponse::~AbortFederationSaveResponse() {
+  SharedDtor();
+}
+
+void AbortFederationSaveResponse::SharedDtor() {
+  if (this != default_instance_) {
+    delete failure_;
+  }
+}
+
+void AbortFederationSaveResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AbortFederationSaveResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AbortFederationSaveResponse_descriptor_;
+}
+
+const AbortFederationSaveResponse& AbortFederationSaveResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AbortFederationSaveResponse* AbortFederationSaveResponse::default_instance_ = NULL;
+
+AbortFederationSaveResponse* AbortFederationSaveResponse::New() const {
+  return new AbortFederationSaveResponse;
+}
+
+void AbortFederationSaveResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_failure()) {
+      if (failure_ != NULL) failure_->::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AbortFederationSaveResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_failure;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.AbortFederationSaveResponse.Failure failure = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_failure:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_failure()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AbortFederationSaveResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.AbortFederationSaveResponse.Failure failure = 2;
+  if (has_failure()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->failure(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AbortFederationSaveResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.AbortFederationSaveResponse.Failure failure = 2;
+  if (has_failure()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->failure(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AbortFederationSaveResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // optional .ohla.rti.messages.proto.AbortFederationSaveResponse.Failure failure = 2;
+    if (has_failure()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->failure());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AbortFederationSaveResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AbortFederationSaveResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AbortFederationSaveResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AbortFederationSaveResponse::MergeFrom(const AbortFederationSaveResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_failure()) {
+      mutable_failure()->::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure::MergeFrom(from.failure());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AbortFederationSaveResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AbortFederationSaveResponse::CopyFrom(const AbortFederationSaveResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AbortFederationSaveResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_failure()) {
+    if (!this->failure().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AbortFederationSaveResponse::Swap(AbortFederationSaveResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(failure_, other->failure_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AbortFederationSaveResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AbortFederationSaveResponse_descriptor_;
+  metadata.reflection = AbortFederationSaveResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+const ::google::protobuf::EnumDescriptor* RequestFederationRestoreResponse_Failure_Cause_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestFederationRestoreResponse_Failure_Cause_descriptor_;
+}
+bool RequestFederationRestoreResponse_Failure_Cause_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+    case 3:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const RequestFederationRestoreResponse_Failure_Cause RequestFederationRestoreResponse_Failure::SAVE_IN_PROGRESS;
+const RequestFederationRestoreResponse_Failure_Cause RequestFederationRestoreResponse_Failure::RESTORE_IN_PROGRESS;
+const RequestFederationRestoreResponse_Failure_Cause RequestFederationRestoreResponse_Failure::RTI_INTERNAL_ERROR;
+const RequestFederationRestoreResponse_Failure_Cause RequestFederationRestoreResponse_Failure::Cause_MIN;
+const RequestFederationRestoreResponse_Failure_Cause RequestFederationRestoreResponse_Failure::Cause_MAX;
+const int RequestFederationRestoreResponse_Failure::Cause_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int RequestFederationRestoreResponse_Failure::kCauseFieldNumber;
+#endif  // !_MSC_VER
+
+RequestFederationRestoreResponse_Failure::RequestFederationRestoreResponse_Failure()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestFederationRestoreResponse_Failure::InitAsDefaultInstance() {
+}
+
+RequestFederationRestoreResponse_Failure::RequestFederationRestoreResponse_Failure(const RequestFederationRestoreResponse_Failure& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestFederationRestoreResponse_Failure::SharedCtor() {
+  _cached_size_ = 0;
+  cause_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestFederationRestoreResponse_Failure::~RequestFederationRestoreResponse_Failure() {
+  SharedDtor();
+}
+
+void RequestFederationRestoreResponse_Failure::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void RequestFederationRestoreResponse_Failure::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestFederationRestoreResponse_Failure::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestFederationRestoreResponse_Failure_descriptor_;
+}
+
+const RequestFederationRestoreResponse_Failure& RequestFederationRestoreResponse_Failure::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestFederationRestoreResponse_Failure* RequestFederationRestoreResponse_Failure::default_instance_ = NULL;
+
+RequestFederationRestoreResponse_Failure* RequestFederationRestoreResponse_Failure::New() const {
+  return new RequestFederationRestoreResponse_Failure;
+}
+
+void RequestFederationRestoreResponse_Failure::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    cause_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestFederationRestoreResponse_Failure::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.RequestFederationRestoreResponse.Failure.Cause cause = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure_Cause_IsValid(value)) {
+            set_cause(static_cast< ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure_Cause >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestFederationRestoreResponse_Failure::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.RequestFederationRestoreResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->cause(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestFederationRestoreResponse_Failure::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.RequestFederationRestoreResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->cause(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestFederationRestoreResponse_Failure::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.RequestFederationRestoreResponse.Failure.Cause cause = 1;
+    if (has_cause()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->cause());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestFederationRestoreResponse_Failure::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestFederationRestoreResponse_Failure* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestFederationRestoreResponse_Failure*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestFederationRestoreResponse_Failure::MergeFrom(const RequestFederationRestoreResponse_Failure& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_cause()) {
+      set_cause(from.cause());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestFederationRestoreResponse_Failure::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestFederationRestoreResponse_Failure::CopyFrom(const RequestFederationRestoreResponse_Failure& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestFederationRestoreResponse_Failure::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void RequestFederationRestoreResponse_Failure::Swap(RequestFederationRestoreResponse_Failure* other) {
+  if (other != this) {
+    std::swap(cause_, other->cause_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestFederationRestoreResponse_Failure::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestFederationRestoreResponse_Failure_descriptor_;
+  metadata.reflection = RequestFederationRestoreResponse_Failure_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int RequestFederationRestoreResponse::kRequestIdFieldNumber;
+const int RequestFederationRestoreResponse::kFailureFieldNumber;
+#endif  // !_MSC_VER
+
+RequestFederationRestoreResponse::RequestFederationRestoreResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestFederationRestoreResponse::InitAsDefaultInstance() {
+  failure_ = const_cast< ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure*>(&::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure::default_instance());
+}
+
+RequestFederationRestoreResponse::RequestFederationRestoreResponse(const RequestFederationRestoreResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestFederationRestoreResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  failure_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestFederationRestoreResponse::~RequestFederationRestoreResponse() {
+  SharedDtor();
+}
+
+void RequestFederationRestoreResponse::SharedDtor() {
+  if (this != default_instance_) {
+    delete failure_;
+  }
+}
+
+void RequestFederationRestoreResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestFederationRestoreResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestFederationRestoreResponse_descriptor_;
+}
+
+const RequestFederationRestoreResponse& RequestFederationRestoreResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestFederationRestoreResponse* RequestFederationRestoreResponse::default_instance_ = NULL;
+
+RequestFederationRestoreResponse* RequestFederationRestoreResponse::New() const {
+  return new RequestFederationRestoreResponse;
+}
+
+void RequestFederationRestoreResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_failure()) {
+      if (failure_ != NULL) failure_->::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestFederationRestoreResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_failure;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.RequestFederationRestoreResponse.Failure failure = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_failure:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_failure()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestFederationRestoreResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.RequestFederationRestoreResponse.Failure failure = 2;
+  if (has_failure()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->failure(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestFederationRestoreResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.RequestFederationRestoreResponse.Failure failure = 2;
+  if (has_failure()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->failure(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestFederationRestoreResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // optional .ohla.rti.messages.proto.RequestFederationRestoreResponse.Failure failure = 2;
+    if (has_failure()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->failure());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestFederationRestoreResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestFederationRestoreResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestFederationRestoreResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestFederationRestoreResponse::MergeFrom(const RequestFederationRestoreResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_failure()) {
+      mutable_failure()->::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure::MergeFrom(from.failure());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestFederationRestoreResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestFederationRestoreResponse::CopyFrom(const RequestFederationRestoreResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestFederationRestoreResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_failure()) {
+    if (!this->failure().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void RequestFederationRestoreResponse::Swap(RequestFederationRestoreResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(failure_, other->failure_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestFederationRestoreResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestFederationRestoreResponse_descriptor_;
+  metadata.reflection = RequestFederationRestoreResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+const ::google::protobuf::EnumDescriptor* AbortFederationRestoreResponse_Failure_Cause_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AbortFederationRestoreResponse_Failure_Cause_descriptor_;
+}
+bool AbortFederationRestoreResponse_Failure_Cause_IsValid(int value) {
+  switch(value) {
+    case 1:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const AbortFederationRestoreResponse_Failure_Cause AbortFederationRestoreResponse_Failure::RESTORE_NOT_IN_PROGRESS;
+const AbortFederationRestoreResponse_Failure_Cause AbortFederationRestoreResponse_Failure::Cause_MIN;
+const AbortFederationRestoreResponse_Failure_Cause AbortFederationRestoreResponse_Failure::Cause_MAX;
+const int AbortFederationRestoreResponse_Failure::Cause_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int AbortFederationRestoreResponse_Failure::kCauseFieldNumber;
+#endif  // !_MSC_VER
+
+AbortFederationRestoreResponse_Failure::AbortFederationRestoreResponse_Failure()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AbortFederationRestoreResponse_Failure::InitAsDefaultInstance() {
+}
+
+AbortFederationRestoreResponse_Failure::AbortFederationRestoreResponse_Failure(const AbortFederationRestoreResponse_Failure& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AbortFederationRestoreResponse_Failure::SharedCtor() {
+  _cached_size_ = 0;
+  cause_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AbortFederationRestoreResponse_Failure::~AbortFederationRestoreResponse_Failure() {
+  SharedDtor();
+}
+
+void AbortFederationRestoreResponse_Failure::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void AbortFederationRestoreResponse_Failure::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AbortFederationRestoreResponse_Failure::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AbortFederationRestoreResponse_Failure_descriptor_;
+}
+
+const AbortFederationRestoreResponse_Failure& AbortFederationRestoreResponse_Failure::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AbortFederationRestoreResponse_Failure* AbortFederationRestoreResponse_Failure::default_instance_ = NULL;
+
+AbortFederationRestoreResponse_Failure* AbortFederationRestoreResponse_Failure::New() const {
+  return new AbortFederationRestoreResponse_Failure;
+}
+
+void AbortFederationRestoreResponse_Failure::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    cause_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AbortFederationRestoreResponse_Failure::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.AbortFederationRestoreResponse.Failure.Cause cause = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure_Cause_IsValid(value)) {
+            set_cause(static_cast< ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure_Cause >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AbortFederationRestoreResponse_Failure::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.AbortFederationRestoreResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->cause(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AbortFederationRestoreResponse_Failure::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.AbortFederationRestoreResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->cause(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AbortFederationRestoreResponse_Failure::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.AbortFederationRestoreResponse.Failure.Cause cause = 1;
+    if (has_cause()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->cause());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AbortFederationRestoreResponse_Failure::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AbortFederationRestoreResponse_Failure* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AbortFederationRestoreResponse_Failure*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AbortFederationRestoreResponse_Failure::MergeFrom(const AbortFederationRestoreResponse_Failure& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_cause()) {
+      set_cause(from.cause());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AbortFederationRestoreResponse_Failure::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AbortFederationRestoreResponse_Failure::CopyFrom(const AbortFederationRestoreResponse_Failure& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AbortFederationRestoreResponse_Failure::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void AbortFederationRestoreResponse_Failure::Swap(AbortFederationRestoreResponse_Failure* other) {
+  if (other != this) {
+    std::swap(cause_, other->cause_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AbortFederationRestoreResponse_Failure::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AbortFederationRestoreResponse_Failure_descriptor_;
+  metadata.reflection = AbortFederationRestoreResponse_Failure_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int AbortFederationRestoreResponse::kRequestIdFieldNumber;
+const int AbortFederationRestoreResponse::kFailureFieldNumber;
+#endif  // !_MSC_VER
+
+AbortFederationRestoreResponse::AbortFederationRestoreResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AbortFederationRestoreResponse::InitAsDefaultInstance() {
+  failure_ = const_cast< ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure*>(&::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure::default_instance());
+}
+
+AbortFederationRestoreResponse::AbortFederationRestoreResponse(const AbortFederationRestoreResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AbortFederationRestoreResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  failure_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AbortFederationRestoreResponse::~AbortFederationRestoreResponse() {
+  SharedDtor();
+}
+
+void AbortFederationRestoreResponse::SharedDtor() {
+  if (this != default_instance_) {
+    delete failure_;
+  }
+}
+
+void AbortFederationRestoreResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AbortFederationRestoreResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AbortFederationRestoreResponse_descriptor_;
+}
+
+const AbortFederationRestoreResponse& AbortFederationRestoreResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AbortFederationRestoreResponse* AbortFederationRestoreResponse::default_instance_ = NULL;
+
+AbortFederationRestoreResponse* AbortFederationRestoreResponse::New() const {
+  return new AbortFederationRestoreResponse;
+}
+
+void AbortFederationRestoreResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_failure()) {
+      if (failure_ != NULL) failure_->::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AbortFederationRestoreResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_failure;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.AbortFederationRestoreResponse.Failure failure = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_failure:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_failure()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AbortFederationRestoreResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.AbortFederationRestoreResponse.Failure failure = 2;
+  if (has_failure()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->failure(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AbortFederationRestoreResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.AbortFederationRestoreResponse.Failure failure = 2;
+  if (has_failure()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->failure(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AbortFederationRestoreResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // optional .ohla.rti.messages.proto.AbortFederationRestoreResponse.Failure failure = 2;
+    if (has_failure()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->failure());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AbortFederationRestoreResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AbortFederationRestoreResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AbortFederationRestoreResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AbortFederationRestoreResponse::MergeFrom(const AbortFederationRestoreResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_failure()) {
+      mutable_failure()->::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure::MergeFrom(from.failure());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AbortFederationRestoreResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AbortFederationRestoreResponse::CopyFrom(const AbortFederationRestoreResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AbortFederationRestoreResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_failure()) {
+    if (!this->failure().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AbortFederationRestoreResponse::Swap(AbortFederationRestoreResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(failure_, other->failure_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AbortFederationRestoreResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AbortFederationRestoreResponse_descriptor_;
+  metadata.reflection = AbortFederationRestoreResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ObjectInstanceNameReservationSucceeded::kObjectInstanceNameFieldNumber;
+#endif  // !_MSC_VER
+
+ObjectInstanceNameReservationSucceeded::ObjectInstanceNameReservationSucceeded()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ObjectInstanceNameReservationSucceeded::InitAsDefaultInstance() {
+}
+
+ObjectInstanceNameReservationSucceeded::ObjectInstanceNameReservationSucceeded(const ObjectInstanceNameReservationSucceeded& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ObjectInstanceNameReservationSucceeded::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ObjectInstanceNameReservationSucceeded::~ObjectInstanceNameReservationSucceeded() {
+  SharedDtor();
+}
+
+void ObjectInstanceNameReservationSucceeded::SharedDtor() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void ObjectInstanceNameReservationSucceeded::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ObjectInstanceNameReservationSucceeded::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ObjectInstanceNameReservationSucceeded_descriptor_;
+}
+
+const ObjectInstanceNameReservationSucceeded& ObjectInstanceNameReservationSucceeded::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ObjectInstanceNameReservationSucceeded* ObjectInstanceNameReservationSucceeded::default_instance_ = NULL;
+
+ObjectInstanceNameReservationSucceeded* ObjectInstanceNameReservationSucceeded::New() const {
+  return new ObjectInstanceNameReservationSucceeded;
+}
+
+void ObjectInstanceNameReservationSucceeded::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancename()) {
+      if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+        objectinstancename_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ObjectInstanceNameReservationSucceeded::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string objectInstanceName = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_objectinstancename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancename().data(), this->objectinstancename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ObjectInstanceNameReservationSucceeded::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string objectInstanceName = 1;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->objectinstancename(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ObjectInstanceNameReservationSucceeded::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string objectInstanceName = 1;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->objectinstancename(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ObjectInstanceNameReservationSucceeded::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string objectInstanceName = 1;
+    if (has_objectinstancename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->objectinstancename());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ObjectInstanceNameReservationSucceeded::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ObjectInstanceNameReservationSucceeded* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ObjectInstanceNameReservationSucceeded*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ObjectInstanceNameReservationSucceeded::MergeFrom(const ObjectInstanceNameReservationSucceeded& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancename()) {
+      set_objectinstancename(from.objectinstancename());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ObjectInstanceNameReservationSucceeded::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ObjectInstanceNameReservationSucceeded::CopyFrom(const ObjectInstanceNameReservationSucceeded& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ObjectInstanceNameReservationSucceeded::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void ObjectInstanceNameReservationSucceeded::Swap(ObjectInstanceNameReservationSucceeded* other) {
+  if (other != this) {
+    std::swap(objectinstancename_, other->objectinstancename_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ObjectInstanceNameReservationSucceeded::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ObjectInstanceNameReservationSucceeded_descriptor_;
+  metadata.reflection = ObjectInstanceNameReservationSucceeded_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ObjectInstanceNameReservationFailed::kObjectInstanceNameFieldNumber;
+#endif  // !_MSC_VER
+
+ObjectInstanceNameReservationFailed::ObjectInstanceNameReservationFailed()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ObjectInstanceNameReservationFailed::InitAsDefaultInstance() {
+}
+
+ObjectInstanceNameReservationFailed::ObjectInstanceNameReservationFailed(const ObjectInstanceNameReservationFailed& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ObjectInstanceNameReservationFailed::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ObjectInstanceNameReservationFailed::~ObjectInstanceNameReservationFailed() {
+  SharedDtor();
+}
+
+void ObjectInstanceNameReservationFailed::SharedDtor() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void ObjectInstanceNameReservationFailed::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ObjectInstanceNameReservationFailed::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ObjectInstanceNameReservationFailed_descriptor_;
+}
+
+const ObjectInstanceNameReservationFailed& ObjectInstanceNameReservationFailed::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ObjectInstanceNameReservationFailed* ObjectInstanceNameReservationFailed::default_instance_ = NULL;
+
+ObjectInstanceNameReservationFailed* ObjectInstanceNameReservationFailed::New() const {
+  return new ObjectInstanceNameReservationFailed;
+}
+
+void ObjectInstanceNameReservationFailed::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancename()) {
+      if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+        objectinstancename_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ObjectInstanceNameReservationFailed::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string objectInstanceName = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_objectinstancename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancename().data(), this->objectinstancename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ObjectInstanceNameReservationFailed::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string objectInstanceName = 1;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->objectinstancename(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ObjectInstanceNameReservationFailed::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string objectInstanceName = 1;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->objectinstancename(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ObjectInstanceNameReservationFailed::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string objectInstanceName = 1;
+    if (has_objectinstancename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->objectinstancename());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ObjectInstanceNameReservationFailed::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ObjectInstanceNameReservationFailed* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ObjectInstanceNameReservationFailed*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ObjectInstanceNameReservationFailed::MergeFrom(const ObjectInstanceNameReservationFailed& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancename()) {
+      set_objectinstancename(from.objectinstancename());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ObjectInstanceNameReservationFailed::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ObjectInstanceNameReservationFailed::CopyFrom(const ObjectInstanceNameReservationFailed& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ObjectInstanceNameReservationFailed::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void ObjectInstanceNameReservationFailed::Swap(ObjectInstanceNameReservationFailed* other) {
+  if (other != this) {
+    std::swap(objectinstancename_, other->objectinstancename_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ObjectInstanceNameReservationFailed::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ObjectInstanceNameReservationFailed_descriptor_;
+  metadata.reflection = ObjectInstanceNameReservationFailed_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int MultipleObjectInstanceNameReservationSucceeded::kObjectInstanceNamesFieldNumber;
+#endif  // !_MSC_VER
+
+MultipleObjectInstanceNameReservationSucceeded::MultipleObjectInstanceNameReservationSucceeded()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void MultipleObjectInstanceNameReservationSucceeded::InitAsDefaultInstance() {
+}
+
+MultipleObjectInstanceNameReservationSucceeded::MultipleObjectInstanceNameReservationSucceeded(const MultipleObjectInstanceNameReservationSucceeded& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void MultipleObjectInstanceNameReservationSucceeded::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+MultipleObjectInstanceNameReservationSucceeded::~MultipleObjectInstanceNameReservationSucceeded() {
+  SharedDtor();
+}
+
+void MultipleObjectInstanceNameReservationSucceeded::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void MultipleObjectInstanceNameReservationSucceeded::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* MultipleObjectInstanceNameReservationSucceeded::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return MultipleObjectInstanceNameReservationSucceeded_descriptor_;
+}
+
+const MultipleObjectInstanceNameReservationSucceeded& MultipleObjectInstanceNameReservationSucceeded::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+MultipleObjectInstanceNameReservationSucceeded* MultipleObjectInstanceNameReservationSucceeded::default_instance_ = NULL;
+
+MultipleObjectInstanceNameReservationSucceeded* MultipleObjectInstanceNameReservationSucceeded::New() const {
+  return new MultipleObjectInstanceNameReservationSucceeded;
+}
+
+void MultipleObjectInstanceNameReservationSucceeded::Clear() {
+  objectinstancenames_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool MultipleObjectInstanceNameReservationSucceeded::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated string objectInstanceNames = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceNames:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_objectinstancenames()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancenames(this->objectinstancenames_size() - 1).data(),
+            this->objectinstancenames(this->objectinstancenames_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_objectInstanceNames;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void MultipleObjectInstanceNameReservationSucceeded::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated string objectInstanceNames = 1;
+  for (int i = 0; i < this->objectinstancenames_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->objectinstancenames(i).data(), this->objectinstancenames(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->objectinstancenames(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* MultipleObjectInstanceNameReservationSucceeded::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated string objectInstanceNames = 1;
+  for (int i = 0; i < this->objectinstancenames_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancenames(i).data(), this->objectinstancenames(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(1, this->objectinstancenames(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int MultipleObjectInstanceNameReservationSucceeded::ByteSize() const {
+  int total_size = 0;
+
+  // repeated string objectInstanceNames = 1;
+  total_size += 1 * this->objectinstancenames_size();
+  for (int i = 0; i < this->objectinstancenames_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->objectinstancenames(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void MultipleObjectInstanceNameReservationSucceeded::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const MultipleObjectInstanceNameReservationSucceeded* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const MultipleObjectInstanceNameReservationSucceeded*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void MultipleObjectInstanceNameReservationSucceeded::MergeFrom(const MultipleObjectInstanceNameReservationSucceeded& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  objectinstancenames_.MergeFrom(from.objectinstancenames_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void MultipleObjectInstanceNameReservationSucceeded::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void MultipleObjectInstanceNameReservationSucceeded::CopyFrom(const MultipleObjectInstanceNameReservationSucceeded& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool MultipleObjectInstanceNameReservationSucceeded::IsInitialized() const {
+
+  return true;
+}
+
+void MultipleObjectInstanceNameReservationSucceeded::Swap(MultipleObjectInstanceNameReservationSucceeded* other) {
+  if (other != this) {
+    objectinstancenames_.Swap(&other->objectinstancenames_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata MultipleObjectInstanceNameReservationSucceeded::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = MultipleObjectInstanceNameReservationSucceeded_descriptor_;
+  metadata.reflection = MultipleObjectInstanceNameReservationSucceeded_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int MultipleObjectInstanceNameReservationFailed::kObjectInstanceNamesFieldNumber;
+#endif  // !_MSC_VER
+
+MultipleObjectInstanceNameReservationFailed::MultipleObjectInstanceNameReservationFailed()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void MultipleObjectInstanceNameReservationFailed::InitAsDefaultInstance() {
+}
+
+MultipleObjectInstanceNameReservationFailed::MultipleObjectInstanceNameReservationFailed(const MultipleObjectInstanceNameReservationFailed& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void MultipleObjectInstanceNameReservationFailed::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+MultipleObjectInstanceNameReservationFailed::~MultipleObjectInstanceNameReservationFailed() {
+  SharedDtor();
+}
+
+void MultipleObjectInstanceNameReservationFailed::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void MultipleObjectInstanceNameReservationFailed::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* MultipleObjectInstanceNameReservationFailed::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return MultipleObjectInstanceNameReservationFailed_descriptor_;
+}
+
+const MultipleObjectInstanceNameReservationFailed& MultipleObjectInstanceNameReservationFailed::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+MultipleObjectInstanceNameReservationFailed* MultipleObjectInstanceNameReservationFailed::default_instance_ = NULL;
+
+MultipleObjectInstanceNameReservationFailed* MultipleObjectInstanceNameReservationFailed::New() const {
+  return new MultipleObjectInstanceNameReservationFailed;
+}
+
+void MultipleObjectInstanceNameReservationFailed::Clear() {
+  objectinstancenames_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool MultipleObjectInstanceNameReservationFailed::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated string objectInstanceNames = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceNames:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_objectinstancenames()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancenames(this->objectinstancenames_size() - 1).data(),
+            this->objectinstancenames(this->objectinstancenames_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_objectInstanceNames;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void MultipleObjectInstanceNameReservationFailed::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated string objectInstanceNames = 1;
+  for (int i = 0; i < this->objectinstancenames_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->objectinstancenames(i).data(), this->objectinstancenames(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->objectinstancenames(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* MultipleObjectInstanceNameReservationFailed::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated string objectInstanceNames = 1;
+  for (int i = 0; i < this->objectinstancenames_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancenames(i).data(), this->objectinstancenames(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(1, this->objectinstancenames(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int MultipleObjectInstanceNameReservationFailed::ByteSize() const {
+  int total_size = 0;
+
+  // repeated string objectInstanceNames = 1;
+  total_size += 1 * this->objectinstancenames_size();
+  for (int i = 0; i < this->objectinstancenames_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->objectinstancenames(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void MultipleObjectInstanceNameReservationFailed::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const MultipleObjectInstanceNameReservationFailed* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const MultipleObjectInstanceNameReservationFailed*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void MultipleObjectInstanceNameReservationFailed::MergeFrom(const MultipleObjectInstanceNameReservationFailed& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  objectinstancenames_.MergeFrom(from.objectinstancenames_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void MultipleObjectInstanceNameReservationFailed::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void MultipleObjectInstanceNameReservationFailed::CopyFrom(const MultipleObjectInstanceNameReservationFailed& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool MultipleObjectInstanceNameReservationFailed::IsInitialized() const {
+
+  return true;
+}
+
+void MultipleObjectInstanceNameReservationFailed::Swap(MultipleObjectInstanceNameReservationFailed* other) {
+  if (other != this) {
+    objectinstancenames_.Swap(&other->objectinstancenames_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata MultipleObjectInstanceNameReservationFailed::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = MultipleObjectInstanceNameReservationFailed_descriptor_;
+  metadata.reflection = MultipleObjectInstanceNameReservationFailed_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ReportInteractionTransportationType::kInteractionClassHandleFieldNumber;
+const int ReportInteractionTransportationType::kFederateHandleFieldNumber;
+const int ReportInteractionTransportationType::kTransportationTypeHandleFieldNumber;
+#endif  // !_MSC_VER
+
+ReportInteractionTransportationType::ReportInteractionTransportationType()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ReportInteractionTransportationType::InitAsDefaultInstance() {
+}
+
+ReportInteractionTransportationType::ReportInteractionTransportationType(const ReportInteractionTransportationType& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ReportInteractionTransportationType::SharedCtor() {
+  _cached_size_ = 0;
+  interactionclasshandle_ = 0u;
+  federatehandle_ = 0u;
+  transportationtypehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ReportInteractionTransportationType::~ReportInteractionTransportationType() {
+  SharedDtor();
+}
+
+void ReportInteractionTransportationType::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void ReportInteractionTransportationType::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ReportInteractionTransportationType::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ReportInteractionTransportationType_descriptor_;
+}
+
+const ReportInteractionTransportationType& ReportInteractionTransportationType::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ReportInteractionTransportationType* ReportInteractionTransportationType::default_instance_ = NULL;
+
+ReportInteractionTransportationType* ReportInteractionTransportationType::New() const {
+  return new ReportInteractionTransportationType;
+}
+
+void ReportInteractionTransportationType::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    interactionclasshandle_ = 0u;
+    federatehandle_ = 0u;
+    transportationtypehandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ReportInteractionTransportationType::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 interactionClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &interactionclasshandle_)));
+          set_has_interactionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_federateHandle;
+        break;
+      }
+
+      // required uint32 federateHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_federateHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatehandle_)));
+          set_has_federatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_transportationTypeHandle;
+        break;
+      }
+
+      // required uint32 transportationTypeHandle = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_transportationTypeHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &transportationtypehandle_)));
+          set_has_transportationtypehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ReportInteractionTransportationType::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->interactionclasshandle(), output);
+  }
+
+  // required uint32 federateHandle = 2;
+  if (has_federatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->federatehandle(), output);
+  }
+
+  // required uint32 transportationTypeHandle = 3;
+  if (has_transportationtypehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(3, this->transportationtypehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ReportInteractionTransportationType::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->interactionclasshandle(), target);
+  }
+
+  // required uint32 federateHandle = 2;
+  if (has_federatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->federatehandle(), target);
+  }
+
+  // required uint32 transportationTypeHandle = 3;
+  if (has_transportationtypehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(3, this->transportationtypehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ReportInteractionTransportationType::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 interactionClassHandle = 1;
+    if (has_interactionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->interactionclasshandle());
+    }
+
+    // required uint32 federateHandle = 2;
+    if (has_federatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatehandle());
+    }
+
+    // required uint32 transportationTypeHandle = 3;
+    if (has_transportationtypehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->transportationtypehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ReportInteractionTransportationType::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ReportInteractionTransportationType* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ReportInteractionTransportationType*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ReportInteractionTransportationType::MergeFrom(const ReportInteractionTransportationType& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_interactionclasshandle()) {
+      set_interactionclasshandle(from.interactionclasshandle());
+    }
+    if (from.has_federatehandle()) {
+      set_federatehandle(from.federatehandle());
+    }
+    if (from.has_transportationtypehandle()) {
+      set_transportationtypehandle(from.transportationtypehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ReportInteractionTransportationType::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ReportInteractionTransportationType::CopyFrom(const ReportInteractionTransportationType& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ReportInteractionTransportationType::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000007) != 0x00000007) return false;
+
+  return true;
+}
+
+void ReportInteractionTransportationType::Swap(ReportInteractionTransportationType* other) {
+  if (other != this) {
+    std::swap(interactionclasshandle_, other->interactionclasshandle_);
+    std::swap(federatehandle_, other->federatehandle_);
+    std::swap(transportationtypehandle_, other->transportationtypehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ReportInteractionTransportationType::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ReportInteractionTransportationType_descriptor_;
+  metadata.reflection = ReportInteractionTransportationType_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int GetFederateHandleResponse_Success::kFederateHandleFieldNumber;
+#endif  // !_MSC_VER
+
+GetFederateHandleResponse_Success::GetFederateHandleResponse_Success()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void GetFederateHandleResponse_Success::InitAsDefaultInstance() {
+}
+
+GetFederateHandleResponse_Success::GetFederateHandleResponse_Success(const GetFederateHandleResponse_Success& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void GetFederateHandleResponse_Success::SharedCtor() {
+  _cached_size_ = 0;
+  federatehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+GetFederateHandleResponse_Success::~GetFederateHandleResponse_Success() {
+  SharedDtor();
+}
+
+void GetFederateHandleResponse_Success::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void GetFederateHandleResponse_Success::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* GetFederateHandleResponse_Success::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetFederateHandleResponse_Success_descriptor_;
+}
+
+const GetFederateHandleResponse_Success& GetFederateHandleResponse_Success::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+GetFederateHandleResponse_Success* GetFederateHandleResponse_Success::default_instance_ = NULL;
+
+GetFederateHandleResponse_Success* GetFederateHandleResponse_Success::New() const {
+  return new GetFederateHandleResponse_Success;
+}
+
+void GetFederateHandleResponse_Success::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    federatehandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool GetFederateHandleResponse_Success::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 federateHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatehandle_)));
+          set_has_federatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void GetFederateHandleResponse_Success::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 federateHandle = 1;
+  if (has_federatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->federatehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* GetFederateHandleResponse_Success::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 federateHandle = 1;
+  if (has_federatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->federatehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int GetFederateHandleResponse_Success::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 federateHandle = 1;
+    if (has_federatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void GetFederateHandleResponse_Success::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const GetFederateHandleResponse_Success* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const GetFederateHandleResponse_Success*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void GetFederateHandleResponse_Success::MergeFrom(const GetFederateHandleResponse_Success& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_federatehandle()) {
+      set_federatehandle(from.federatehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void GetFederateHandleResponse_Success::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void GetFederateHandleResponse_Success::CopyFrom(const GetFederateHandleResponse_Success& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool GetFederateHandleResponse_Success::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void GetFederateHandleResponse_Success::Swap(GetFederateHandleResponse_Success* other) {
+  if (other != this) {
+    std::swap(federatehandle_, other->federatehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata GetFederateHandleResponse_Success::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = GetFederateHandleResponse_Success_descriptor_;
+  metadata.reflection = GetFederateHandleResponse_Success_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+const ::google::protobuf::EnumDescriptor* GetFederateHandleResponse_Failure_Cause_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetFederateHandleResponse_Failure_Cause_descriptor_;
+}
+bool GetFederateHandleResponse_Failure_Cause_IsValid(int value) {
+  switch(value) {
+    case 1:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const GetFederateHandleResponse_Failure_Cause GetFederateHandleResponse_Failure::NAME_NOT_FOUND;
+const GetFederateHandleResponse_Failure_Cause GetFederateHandleResponse_Failure::Cause_MIN;
+const GetFederateHandleResponse_Failure_Cause GetFederateHandleResponse_Failure::Cause_MAX;
+const int GetFederateHandleResponse_Failure::Cause_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int GetFederateHandleResponse_Failure::kCauseFieldNumber;
+#endif  // !_MSC_VER
+
+GetFederateHandleResponse_Failure::GetFederateHandleResponse_Failure()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void GetFederateHandleResponse_Failure::InitAsDefaultInstance() {
+}
+
+GetFederateHandleResponse_Failure::GetFederateHandleResponse_Failure(const GetFederateHandleResponse_Failure& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void GetFederateHandleResponse_Failure::SharedCtor() {
+  _cached_size_ = 0;
+  cause_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+GetFederateHandleResponse_Failure::~GetFederateHandleResponse_Failure() {
+  SharedDtor();
+}
+
+void GetFederateHandleResponse_Failure::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void GetFederateHandleResponse_Failure::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* GetFederateHandleResponse_Failure::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetFederateHandleResponse_Failure_descriptor_;
+}
+
+const GetFederateHandleResponse_Failure& GetFederateHandleResponse_Failure::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+GetFederateHandleResponse_Failure* GetFederateHandleResponse_Failure::default_instance_ = NULL;
+
+GetFederateHandleResponse_Failure* GetFederateHandleResponse_Failure::New() const {
+  return new GetFederateHandleResponse_Failure;
+}
+
+void GetFederateHandleResponse_Failure::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    cause_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool GetFederateHandleResponse_Failure::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.GetFederateHandleResponse.Failure.Cause cause = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::GetFederateHandleResponse_Failure_Cause_IsValid(value)) {
+            set_cause(static_cast< ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure_Cause >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void GetFederateHandleResponse_Failure::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.GetFederateHandleResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->cause(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* GetFederateHandleResponse_Failure::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.GetFederateHandleResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->cause(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int GetFederateHandleResponse_Failure::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.GetFederateHandleResponse.Failure.Cause cause = 1;
+    if (has_cause()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->cause());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void GetFederateHandleResponse_Failure::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const GetFederateHandleResponse_Failure* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const GetFederateHandleResponse_Failure*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void GetFederateHandleResponse_Failure::MergeFrom(const GetFederateHandleResponse_Failure& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_cause()) {
+      set_cause(from.cause());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void GetFederateHandleResponse_Failure::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void GetFederateHandleResponse_Failure::CopyFrom(const GetFederateHandleResponse_Failure& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool GetFederateHandleResponse_Failure::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void GetFederateHandleResponse_Failure::Swap(GetFederateHandleResponse_Failure* other) {
+  if (other != this) {
+    std::swap(cause_, other->cause_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata GetFederateHandleResponse_Failure::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = GetFederateHandleResponse_Failure_descriptor_;
+  metadata.reflection = GetFederateHandleResponse_Failure_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int GetFederateHandleResponse::kRequestIdFieldNumber;
+const int GetFederateHandleResponse::kSuccessFieldNumber;
+const int GetFederateHandleResponse::kFailureFieldNumber;
+#endif  // !_MSC_VER
+
+GetFederateHandleResponse::GetFederateHandleResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void GetFederateHandleResponse::InitAsDefaultInstance() {
+  success_ = const_cast< ::ohla::rti::messages::proto::GetFederateHandleResponse_Success*>(&::ohla::rti::messages::proto::GetFederateHandleResponse_Success::default_instance());
+  failure_ = const_cast< ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure*>(&::ohla::rti::messages::proto::GetFederateHandleResponse_Failure::default_instance());
+}
+
+GetFederateHandleResponse::GetFederateHandleResponse(const GetFederateHandleResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void GetFederateHandleResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  success_ = NULL;
+  failure_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+GetFederateHandleResponse::~GetFederateHandleResponse() {
+  SharedDtor();
+}
+
+void GetFederateHandleResponse::SharedDtor() {
+  if (this != default_instance_) {
+    delete success_;
+    delete failure_;
+  }
+}
+
+void GetFederateHandleResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* GetFederateHandleResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetFederateHandleResponse_descriptor_;
+}
+
+const GetFederateHandleResponse& GetFederateHandleResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+GetFederateHandleResponse* GetFederateHandleResponse::default_instance_ = NULL;
+
+GetFederateHandleResponse* GetFederateHandleResponse::New() const {
+  return new GetFederateHandleResponse;
+}
+
+void GetFederateHandleResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_success()) {
+      if (success_ != NULL) success_->::ohla::rti::messages::proto::GetFederateHandleResponse_Success::Clear();
+    }
+    if (has_failure()) {
+      if (failure_ != NULL) failure_->::ohla::rti::messages::proto::GetFederateHandleResponse_Failure::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool GetFederateHandleResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_success;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.GetFederateHandleResponse.Success success = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_success:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_success()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_failure;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.GetFederateHandleResponse.Failure failure = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_failure:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_failure()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void GetFederateHandleResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.GetFederateHandleResponse.Success success = 2;
+  if (has_success()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->success(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.GetFederateHandleResponse.Failure failure = 3;
+  if (has_failure()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->failure(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* GetFederateHandleResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.GetFederateHandleResponse.Success success = 2;
+  if (has_success()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->success(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.GetFederateHandleResponse.Failure failure = 3;
+  if (has_failure()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->failure(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int GetFederateHandleResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // optional .ohla.rti.messages.proto.GetFederateHandleResponse.Success success = 2;
+    if (has_success()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->success());
+    }
+
+    // optional .ohla.rti.messages.proto.GetFederateHandleResponse.Failure failure = 3;
+    if (has_failure()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->failure());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void GetFederateHandleResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const GetFederateHandleResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const GetFederateHandleResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void GetFederateHandleResponse::MergeFrom(const GetFederateHandleResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_success()) {
+      mutable_success()->::ohla::rti::messages::proto::GetFederateHandleResponse_Success::MergeFrom(from.success());
+    }
+    if (from.has_failure()) {
+      mutable_failure()->::ohla::rti::messages::proto::GetFederateHandleResponse_Failure::MergeFrom(from.failure());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void GetFederateHandleResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void GetFederateHandleResponse::CopyFrom(const GetFederateHandleResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool GetFederateHandleResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_success()) {
+    if (!this->success().IsInitialized()) return false;
+  }
+  if (has_failure()) {
+    if (!this->failure().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void GetFederateHandleResponse::Swap(GetFederateHandleResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(success_, other->success_);
+    std::swap(failure_, other->failure_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata GetFederateHandleResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = GetFederateHandleResponse_descriptor_;
+  metadata.reflection = GetFederateHandleResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int GetFederateNameResponse_Success::kFederateNameFieldNumber;
+#endif  // !_MSC_VER
+
+GetFederateNameResponse_Success::GetFederateNameResponse_Success()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void GetFederateNameResponse_Success::InitAsDefaultInstance() {
+}
+
+GetFederateNameResponse_Success::GetFederateNameResponse_Success(const GetFederateNameResponse_Success& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void GetFederateNameResponse_Success::SharedCtor() {
+  _cached_size_ = 0;
+  federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+GetFederateNameResponse_Success::~GetFederateNameResponse_Success() {
+  SharedDtor();
+}
+
+void GetFederateNameResponse_Success::SharedDtor() {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatename_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void GetFederateNameResponse_Success::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* GetFederateNameResponse_Success::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetFederateNameResponse_Success_descriptor_;
+}
+
+const GetFederateNameResponse_Success& GetFederateNameResponse_Success::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+GetFederateNameResponse_Success* GetFederateNameResponse_Success::default_instance_ = NULL;
+
+GetFederateNameResponse_Success* GetFederateNameResponse_Success::New() const {
+  return new GetFederateNameResponse_Success;
+}
+
+void GetFederateNameResponse_Success::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_federatename()) {
+      if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+        federatename_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool GetFederateNameResponse_Success::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string federateName = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_federatename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->federatename().data(), this->federatename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void GetFederateNameResponse_Success::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string federateName = 1;
+  if (has_federatename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatename().data(), this->federatename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->federatename(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* GetFederateNameResponse_Success::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string federateName = 1;
+  if (has_federatename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatename().data(), this->federatename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->federatename(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int GetFederateNameResponse_Success::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string federateName = 1;
+    if (has_federatename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->federatename());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void GetFederateNameResponse_Success::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const GetFederateNameResponse_Success* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const GetFederateNameResponse_Success*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void GetFederateNameResponse_Success::MergeFrom(const GetFederateNameResponse_Success& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_federatename()) {
+      set_federatename(from.federatename());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void GetFederateNameResponse_Success::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void GetFederateNameResponse_Success::CopyFrom(const GetFederateNameResponse_Success& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool GetFederateNameResponse_Success::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void GetFederateNameResponse_Success::Swap(GetFederateNameResponse_Success* other) {
+  if (other != this) {
+    std::swap(federatename_, other->federatename_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata GetFederateNameResponse_Success::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = GetFederateNameResponse_Success_descriptor_;
+  metadata.reflection = GetFederateNameResponse_Success_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+const ::google::protobuf::EnumDescriptor* GetFederateNameResponse_Failure_Cause_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetFederateNameResponse_Failure_Cause_descriptor_;
+}
+bool GetFederateNameResponse_Failure_Cause_IsValid(int value) {
+  switch(value) {
+    case 1:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const GetFederateNameResponse_Failure_Cause GetFederateNameResponse_Failure::FEDERATE_HANDLE_NOT_KNOWN;
+const GetFederateNameResponse_Failure_Cause GetFederateNameResponse_Failure::Cause_MIN;
+const GetFederateNameResponse_Failure_Cause GetFederateNameResponse_Failure::Cause_MAX;
+const int GetFederateNameResponse_Failure::Cause_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int GetFederateNameResponse_Failure::kCauseFieldNumber;
+#endif  // !_MSC_VER
+
+GetFederateNameResponse_Failure::GetFederateNameResponse_Failure()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void GetFederateNameResponse_Failure::InitAsDefaultInstance() {
+}
+
+GetFederateNameResponse_Failure::GetFederateNameResponse_Failure(const GetFederateNameResponse_Failure& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void GetFederateNameResponse_Failure::SharedCtor() {
+  _cached_size_ = 0;
+  cause_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+GetFederateNameResponse_Failure::~GetFederateNameResponse_Failure() {
+  SharedDtor();
+}
+
+void GetFederateNameResponse_Failure::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void GetFederateNameResponse_Failure::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* GetFederateNameResponse_Failure::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetFederateNameResponse_Failure_descriptor_;
+}
+
+const GetFederateNameResponse_Failure& GetFederateNameResponse_Failure::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+GetFederateNameResponse_Failure* GetFederateNameResponse_Failure::default_instance_ = NULL;
+
+GetFederateNameResponse_Failure* GetFederateNameResponse_Failure::New() const {
+  return new GetFederateNameResponse_Failure;
+}
+
+void GetFederateNameResponse_Failure::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    cause_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool GetFederateNameResponse_Failure::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.GetFederateNameResponse.Failure.Cause cause = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::GetFederateNameResponse_Failure_Cause_IsValid(value)) {
+            set_cause(static_cast< ::ohla::rti::messages::proto::GetFederateNameResponse_Failure_Cause >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void GetFederateNameResponse_Failure::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.GetFederateNameResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->cause(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* GetFederateNameResponse_Failure::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.GetFederateNameResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->cause(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int GetFederateNameResponse_Failure::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.GetFederateNameResponse.Failure.Cause cause = 1;
+    if (has_cause()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->cause());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void GetFederateNameResponse_Failure::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const GetFederateNameResponse_Failure* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const GetFederateNameResponse_Failure*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void GetFederateNameResponse_Failure::MergeFrom(const GetFederateNameResponse_Failure& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_cause()) {
+      set_cause(from.cause());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void GetFederateNameResponse_Failure::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void GetFederateNameResponse_Failure::CopyFrom(const GetFederateNameResponse_Failure& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool GetFederateNameResponse_Failure::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void GetFederateNameResponse_Failure::Swap(GetFederateNameResponse_Failure* other) {
+  if (other != this) {
+    std::swap(cause_, other->cause_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata GetFederateNameResponse_Failure::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = GetFederateNameResponse_Failure_descriptor_;
+  metadata.reflection = GetFederateNameResponse_Failure_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int GetFederateNameResponse::kRequestIdFieldNumber;
+const int GetFederateNameResponse::kSuccessFieldNumber;
+const int GetFederateNameResponse::kFailureFieldNumber;
+#endif  // !_MSC_VER
+
+GetFederateNameResponse::GetFederateNameResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void GetFederateNameResponse::InitAsDefaultInstance() {
+  success_ = const_cast< ::ohla::rti::messages::proto::GetFederateNameResponse_Success*>(&::ohla::rti::messages::proto::GetFederateNameResponse_Success::default_instance());
+  failure_ = const_cast< ::ohla::rti::messages::proto::GetFederateNameResponse_Failure*>(&::ohla::rti::messages::proto::GetFederateNameResponse_Failure::default_instance());
+}
+
+GetFederateNameResponse::GetFederateNameResponse(const GetFederateNameResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void GetFederateNameResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  success_ = NULL;
+  failure_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+GetFederateNameResponse::~GetFederateNameResponse() {
+  SharedDtor();
+}
+
+void GetFederateNameResponse::SharedDtor() {
+  if (this != default_instance_) {
+    delete success_;
+    delete failure_;
+  }
+}
+
+void GetFederateNameResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* GetFederateNameResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetFederateNameResponse_descriptor_;
+}
+
+const GetFederateNameResponse& GetFederateNameResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+GetFederateNameResponse* GetFederateNameResponse::default_instance_ = NULL;
+
+GetFederateNameResponse* GetFederateNameResponse::New() const {
+  return new GetFederateNameResponse;
+}
+
+void GetFederateNameResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_success()) {
+      if (success_ != NULL) success_->::ohla::rti::messages::proto::GetFederateNameResponse_Success::Clear();
+    }
+    if (has_failure()) {
+      if (failure_ != NULL) failure_->::ohla::rti::messages::proto::GetFederateNameResponse_Failure::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool GetFederateNameResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_success;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.GetFederateNameResponse.Success success = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_success:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_success()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_failure;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.GetFederateNameResponse.Failure failure = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_failure:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_failure()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void GetFederateNameResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.GetFederateNameResponse.Success success = 2;
+  if (has_success()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->success(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.GetFederateNameResponse.Failure failure = 3;
+  if (has_failure()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->failure(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* GetFederateNameResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.GetFederateNameResponse.Success success = 2;
+  if (has_success()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->success(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.GetFederateNameResponse.Failure failure = 3;
+  if (has_failure()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->failure(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int GetFederateNameResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // optional .ohla.rti.messages.proto.GetFederateNameResponse.Success success = 2;
+    if (has_success()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->success());
+    }
+
+    // optional .ohla.rti.messages.proto.GetFederateNameResponse.Failure failure = 3;
+    if (has_failure()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->failure());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void GetFederateNameResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const GetFederateNameResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const GetFederateNameResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void GetFederateNameResponse::MergeFrom(const GetFederateNameResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_success()) {
+      mutable_success()->::ohla::rti::messages::proto::GetFederateNameResponse_Success::MergeFrom(from.success());
+    }
+    if (from.has_failure()) {
+      mutable_failure()->::ohla::rti::messages::proto::GetFederateNameResponse_Failure::MergeFrom(from.failure());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void GetFederateNameResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void GetFederateNameResponse::CopyFrom(const GetFederateNameResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool GetFederateNameResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_success()) {
+    if (!this->success().IsInitialized()) return false;
+  }
+  if (has_failure()) {
+    if (!this->failure().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void GetFederateNameResponse::Swap(GetFederateNameResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(success_, other->success_);
+    std::swap(failure_, other->failure_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata GetFederateNameResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = GetFederateNameResponse_descriptor_;
+  metadata.reflection = GetFederateNameResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int GetUpdateRateValueForAttributeResponse_Success::kUpdateRateFieldNumber;
+#endif  // !_MSC_VER
+
+GetUpdateRateValueForAttributeResponse_Success::GetUpdateRateValueForAttributeResponse_Success()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void GetUpdateRateValueForAttributeResponse_Success::InitAsDefaultInstance() {
+}
+
+GetUpdateRateValueForAttributeResponse_Success::GetUpdateRateValueForAttributeResponse_Success(const GetUpdateRateValueForAttributeResponse_Success& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void GetUpdateRateValueForAttributeResponse_Success::SharedCtor() {
+  _cached_size_ = 0;
+  updaterate_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+GetUpdateRateValueForAttributeResponse_Success::~GetUpdateRateValueForAttributeResponse_Success() {
+  SharedDtor();
+}
+
+void GetUpdateRateValueForAttributeResponse_Success::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void GetUpdateRateValueForAttributeResponse_Success::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* GetUpdateRateValueForAttributeResponse_Success::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetUpdateRateValueForAttributeResponse_Success_descriptor_;
+}
+
+const GetUpdateRateValueForAttributeResponse_Success& GetUpdateRateValueForAttributeResponse_Success::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+GetUpdateRateValueForAttributeResponse_Success* GetUpdateRateValueForAttributeResponse_Success::default_instance_ = NULL;
+
+GetUpdateRateValueForAttributeResponse_Success* GetUpdateRateValueForAttributeResponse_Success::New() const {
+  return new GetUpdateRateValueForAttributeResponse_Success;
+}
+
+void GetUpdateRateValueForAttributeResponse_Success::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    updaterate_ = 0;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool GetUpdateRateValueForAttributeResponse_Success::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required double updateRate = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED64) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   double, ::google::protobuf::internal::WireFormatLite::TYPE_DOUBLE>(
+                 input, &updaterate_)));
+          set_has_updaterate();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void GetUpdateRateValueForAttributeResponse_Success::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required double updateRate = 1;
+  if (has_updaterate()) {
+    ::google::protobuf::internal::WireFormatLite::WriteDouble(1, this->updaterate(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* GetUpdateRateValueForAttributeResponse_Success::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required double updateRate = 1;
+  if (has_updaterate()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteDoubleToArray(1, this->updaterate(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int GetUpdateRateValueForAttributeResponse_Success::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required double updateRate = 1;
+    if (has_updaterate()) {
+      total_size += 1 + 8;
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void GetUpdateRateValueForAttributeResponse_Success::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const GetUpdateRateValueForAttributeResponse_Success* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const GetUpdateRateValueForAttributeResponse_Success*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void GetUpdateRateValueForAttributeResponse_Success::MergeFrom(const GetUpdateRateValueForAttributeResponse_Success& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_updaterate()) {
+      set_updaterate(from.updaterate());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void GetUpdateRateValueForAttributeResponse_Success::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void GetUpdateRateValueForAttributeResponse_Success::CopyFrom(const GetUpdateRateValueForAttributeResponse_Success& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool GetUpdateRateValueForAttributeResponse_Success::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void GetUpdateRateValueForAttributeResponse_Success::Swap(GetUpdateRateValueForAttributeResponse_Success* other) {
+  if (other != this) {
+    std::swap(updaterate_, other->updaterate_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata GetUpdateRateValueForAttributeResponse_Success::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = GetUpdateRateValueForAttributeResponse_Success_descriptor_;
+  metadata.reflection = GetUpdateRateValueForAttributeResponse_Success_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+const ::google::protobuf::EnumDescriptor* GetUpdateRateValueForAttributeResponse_Failure_Cause_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetUpdateRateValueForAttributeResponse_Failure_Cause_descriptor_;
+}
+bool GetUpdateRateValueForAttributeResponse_Failure_Cause_IsValid(int value) {
+  switch(value) {
+    case 1:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const GetUpdateRateValueForAttributeResponse_Failure_Cause GetUpdateRateValueForAttributeResponse_Failure::OBJECT_INSTANCE_NOT_KNOWN;
+const GetUpdateRateValueForAttributeResponse_Failure_Cause GetUpdateRateValueForAttributeResponse_Failure::Cause_MIN;
+const GetUpdateRateValueForAttributeResponse_Failure_Cause GetUpdateRateValueForAttributeResponse_Failure::Cause_MAX;
+const int GetUpdateRateValueForAttributeResponse_Failure::Cause_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int GetUpdateRateValueForAttributeResponse_Failure::kCauseFieldNumber;
+#endif  // !_MSC_VER
+
+GetUpdateRateValueForAttributeResponse_Failure::GetUpdateRateValueForAttributeResponse_Failure()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void GetUpdateRateValueForAttributeResponse_Failure::InitAsDefaultInstance() {
+}
+
+GetUpdateRateValueForAttributeResponse_Failure::GetUpdateRateValueForAttributeResponse_Failure(const GetUpdateRateValueForAttributeResponse_Failure& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void GetUpdateRateValueForAttributeResponse_Failure::SharedCtor() {
+  _cached_size_ = 0;
+  cause_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+GetUpdateRateValueForAttributeResponse_Failure::~GetUpdateRateValueForAttributeResponse_Failure() {
+  SharedDtor();
+}
+
+void GetUpdateRateValueForAttributeResponse_Failure::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void GetUpdateRateValueForAttributeResponse_Failure::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* GetUpdateRateValueForAttributeResponse_Failure::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetUpdateRateValueForAttributeResponse_Failure_descriptor_;
+}
+
+const GetUpdateRateValueForAttributeResponse_Failure& GetUpdateRateValueForAttributeResponse_Failure::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+GetUpdateRateValueForAttributeResponse_Failure* GetUpdateRateValueForAttributeResponse_Failure::default_instance_ = NULL;
+
+GetUpdateRateValueForAttributeResponse_Failure* GetUpdateRateValueForAttributeResponse_Failure::New() const {
+  return new GetUpdateRateValueForAttributeResponse_Failure;
+}
+
+void GetUpdateRateValueForAttributeResponse_Failure::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    cause_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool GetUpdateRateValueForAttributeResponse_Failure::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Failure.Cause cause = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure_Cause_IsValid(value)) {
+            set_cause(static_cast< ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure_Cause >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(2, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void GetUpdateRateValueForAttributeResponse_Failure::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Failure.Cause cause = 2;
+  if (has_cause()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      2, this->cause(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* GetUpdateRateValueForAttributeResponse_Failure::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Failure.Cause cause = 2;
+  if (has_cause()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      2, this->cause(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int GetUpdateRateValueForAttributeResponse_Failure::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Failure.Cause cause = 2;
+    if (has_cause()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->cause());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void GetUpdateRateValueForAttributeResponse_Failure::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const GetUpdateRateValueForAttributeResponse_Failure* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const GetUpdateRateValueForAttributeResponse_Failure*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void GetUpdateRateValueForAttributeResponse_Failure::MergeFrom(const GetUpdateRateValueForAttributeResponse_Failure& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_cause()) {
+      set_cause(from.cause());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void GetUpdateRateValueForAttributeResponse_Failure::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void GetUpdateRateValueForAttributeResponse_Failure::CopyFrom(const GetUpdateRateValueForAttributeResponse_Failure& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool GetUpdateRateValueForAttributeResponse_Failure::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void GetUpdateRateValueForAttributeResponse_Failure::Swap(GetUpdateRateValueForAttributeResponse_Failure* other) {
+  if (other != this) {
+    std::swap(cause_, other->cause_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata GetUpdateRateValueForAttributeResponse_Failure::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = GetUpdateRateValueForAttributeResponse_Failure_descriptor_;
+  metadata.reflection = GetUpdateRateValueForAttributeResponse_Failure_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int GetUpdateRateValueForAttributeResponse::kRequestIdFieldNumber;
+const int GetUpdateRateValueForAttributeResponse::kSuccessFieldNumber;
+const int GetUpdateRateValueForAttributeResponse::kFailureFieldNumber;
+#endif  // !_MSC_VER
+
+GetUpdateRateValueForAttributeResponse::GetUpdateRateValueForAttributeResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void GetUpdateRateValueForAttributeResponse::InitAsDefaultInstance() {
+  success_ = const_cast< ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success*>(&::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success::default_instance());
+  failure_ = const_cast< ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure*>(&::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure::default_instance());
+}
+
+GetUpdateRateValueForAttributeResponse::GetUpdateRateValueForAttributeResponse(const GetUpdateRateValueForAttributeResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void GetUpdateRateValueForAttributeResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  success_ = NULL;
+  failure_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+GetUpdateRateValueForAttributeResponse::~GetUpdateRateValueForAttributeResponse() {
+  SharedDtor();
+}
+
+void GetUpdateRateValueForAttributeResponse::SharedDtor() {
+  if (this != default_instance_) {
+    delete success_;
+    delete failure_;
+  }
+}
+
+void GetUpdateRateValueForAttributeResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* GetUpdateRateValueForAttributeResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetUpdateRateValueForAttributeResponse_descriptor_;
+}
+
+const GetUpdateRateValueForAttributeResponse& GetUpdateRateValueForAttributeResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+GetUpdateRateValueForAttributeResponse* GetUpdateRateValueForAttributeResponse::default_instance_ = NULL;
+
+GetUpdateRateValueForAttributeResponse* GetUpdateRateValueForAttributeResponse::New() const {
+  return new GetUpdateRateValueForAttributeResponse;
+}
+
+void GetUpdateRateValueForAttributeResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_success()) {
+      if (success_ != NULL) success_->::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success::Clear();
+    }
+    if (has_failure()) {
+      if (failure_ != NULL) failure_->::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool GetUpdateRateValueForAttributeResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_success;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Success success = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_success:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_success()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_failure;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Failure failure = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_failure:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_failure()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void GetUpdateRateValueForAttributeResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Success success = 2;
+  if (has_success()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->success(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Failure failure = 3;
+  if (has_failure()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->failure(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* GetUpdateRateValueForAttributeResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Success success = 2;
+  if (has_success()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->success(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Failure failure = 3;
+  if (has_failure()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->failure(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int GetUpdateRateValueForAttributeResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // optional .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Success success = 2;
+    if (has_success()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->success());
+    }
+
+    // optional .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Failure failure = 3;
+    if (has_failure()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->failure());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void GetUpdateRateValueForAttributeResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const GetUpdateRateValueForAttributeResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const GetUpdateRateValueForAttributeResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void GetUpdateRateValueForAttributeResponse::MergeFrom(const GetUpdateRateValueForAttributeResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_success()) {
+      mutable_success()->::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success::MergeFrom(from.success());
+    }
+    if (from.has_failure()) {
+      mutable_failure()->::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure::MergeFrom(from.failure());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void GetUpdateRateValueForAttributeResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void GetUpdateRateValueForAttributeResponse::CopyFrom(const GetUpdateRateValueForAttributeResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool GetUpdateRateValueForAttributeResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_success()) {
+    if (!this->success().IsInitialized()) return false;
+  }
+  if (has_failure()) {
+    if (!this->failure().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void GetUpdateRateValueForAttributeResponse::Swap(GetUpdateRateValueForAttributeResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(success_, other->success_);
+    std::swap(failure_, other->failure_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata GetUpdateRateValueForAttributeResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = GetUpdateRateValueForAttributeResponse_descriptor_;
+  metadata.reflection = GetUpdateRateValueForAttributeResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AttributeOwnershipDivestitureIfWantedResponse::kRequestIdFieldNumber;
+const int AttributeOwnershipDivestitureIfWantedResponse::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+AttributeOwnershipDivestitureIfWantedResponse::AttributeOwnershipDivestitureIfWantedResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AttributeOwnershipDivestitureIfWantedResponse::InitAsDefaultInstance() {
+}
+
+AttributeOwnershipDivestitureIfWantedResponse::AttributeOwnershipDivestitureIfWantedResponse(const AttributeOwnershipDivestitureIfWantedResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AttributeOwnershipDivestitureIfWantedResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AttributeOwnershipDivestitureIfWantedResponse::~AttributeOwnershipDivestitureIfWantedResponse() {
+  SharedDtor();
+}
+
+void AttributeOwnershipDivestitureIfWantedResponse::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void AttributeOwnershipDivestitureIfWantedResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AttributeOwnershipDivestitureIfWantedResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AttributeOwnershipDivestitureIfWantedResponse_descriptor_;
+}
+
+const AttributeOwnershipDivestitureIfWantedResponse& AttributeOwnershipDivestitureIfWantedResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AttributeOwnershipDivestitureIfWantedResponse* AttributeOwnershipDivestitureIfWantedResponse::default_instance_ = NULL;
+
+AttributeOwnershipDivestitureIfWantedResponse* AttributeOwnershipDivestitureIfWantedResponse::New() const {
+  return new AttributeOwnershipDivestitureIfWantedResponse;
+}
+
+void AttributeOwnershipDivestitureIfWantedResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AttributeOwnershipDivestitureIfWantedResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AttributeOwnershipDivestitureIfWantedResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AttributeOwnershipDivestitureIfWantedResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AttributeOwnershipDivestitureIfWantedResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AttributeOwnershipDivestitureIfWantedResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AttributeOwnershipDivestitureIfWantedResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AttributeOwnershipDivestitureIfWantedResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AttributeOwnershipDivestitureIfWantedResponse::MergeFrom(const AttributeOwnershipDivestitureIfWantedResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AttributeOwnershipDivestitureIfWantedResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AttributeOwnershipDivestitureIfWantedResponse::CopyFrom(const AttributeOwnershipDivestitureIfWantedResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AttributeOwnershipDivestitureIfWantedResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void AttributeOwnershipDivestitureIfWantedResponse::Swap(AttributeOwnershipDivestitureIfWantedResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AttributeOwnershipDivestitureIfWantedResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AttributeOwnershipDivestitureIfWantedResponse_descriptor_;
+  metadata.reflection = AttributeOwnershipDivestitureIfWantedResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int QueryGALTResponse::kRequestIdFieldNumber;
+const int QueryGALTResponse::kGaltFieldNumber;
+#endif  // !_MSC_VER
+
+QueryGALTResponse::QueryGALTResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void QueryGALTResponse::InitAsDefaultInstance() {
+}
+
+QueryGALTResponse::QueryGALTResponse(const QueryGALTResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void QueryGALTResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  galt_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+QueryGALTResponse::~QueryGALTResponse() {
+  SharedDtor();
+}
+
+void QueryGALTResponse::SharedDtor() {
+  if (galt_ != &::google::protobuf::internal::kEmptyString) {
+    delete galt_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void QueryGALTResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* QueryGALTResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return QueryGALTResponse_descriptor_;
+}
+
+const QueryGALTResponse& QueryGALTResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+QueryGALTResponse* QueryGALTResponse::default_instance_ = NULL;
+
+QueryGALTResponse* QueryGALTResponse::New() const {
+  return new QueryGALTResponse;
+}
+
+void QueryGALTResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_galt()) {
+      if (galt_ != &::google::protobuf::internal::kEmptyString) {
+        galt_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool QueryGALTResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_galt;
+        break;
+      }
+
+      // optional bytes galt = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_galt:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_galt()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void QueryGALTResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // optional bytes galt = 2;
+  if (has_galt()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      2, this->galt(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* QueryGALTResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // optional bytes galt = 2;
+  if (has_galt()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        2, this->galt(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int QueryGALTResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // optional bytes galt = 2;
+    if (has_galt()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->galt());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void QueryGALTResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const QueryGALTResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const QueryGALTResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void QueryGALTResponse::MergeFrom(const QueryGALTResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_galt()) {
+      set_galt(from.galt());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void QueryGALTResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void QueryGALTResponse::CopyFrom(const QueryGALTResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool QueryGALTResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void QueryGALTResponse::Swap(QueryGALTResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(galt_, other->galt_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata QueryGALTResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = QueryGALTResponse_descriptor_;
+  metadata.reflection = QueryGALTResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int QueryLITSResponse::kRequestIdFieldNumber;
+const int QueryLITSResponse::kLitsFieldNumber;
+#endif  // !_MSC_VER
+
+QueryLITSResponse::QueryLITSResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void QueryLITSResponse::InitAsDefaultInstance() {
+}
+
+QueryLITSResponse::QueryLITSResponse(const QueryLITSResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void QueryLITSResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  lits_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+QueryLITSResponse::~QueryLITSResponse() {
+  SharedDtor();
+}
+
+void QueryLITSResponse::SharedDtor() {
+  if (lits_ != &::google::protobuf::internal::kEmptyString) {
+    delete lits_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void QueryLITSResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* QueryLITSResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return QueryLITSResponse_descriptor_;
+}
+
+const QueryLITSResponse& QueryLITSResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+QueryLITSResponse* QueryLITSResponse::default_instance_ = NULL;
+
+QueryLITSResponse* QueryLITSResponse::New() const {
+  return new QueryLITSResponse;
+}
+
+void QueryLITSResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_lits()) {
+      if (lits_ != &::google::protobuf::internal::kEmptyString) {
+        lits_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool QueryLITSResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_lits;
+        break;
+      }
+
+      // optional bytes lits = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_lits:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_lits()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void QueryLITSResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // optional bytes lits = 2;
+  if (has_lits()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      2, this->lits(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* QueryLITSResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // optional bytes lits = 2;
+  if (has_lits()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        2, this->lits(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int QueryLITSResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // optional bytes lits = 2;
+    if (has_lits()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->lits());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void QueryLITSResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const QueryLITSResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const QueryLITSResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void QueryLITSResponse::MergeFrom(const QueryLITSResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_lits()) {
+      set_lits(from.lits());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void QueryLITSResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void QueryLITSResponse::CopyFrom(const QueryLITSResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool QueryLITSResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void QueryLITSResponse::Swap(QueryLITSResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(lits_, other->lits_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata QueryLITSResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = QueryLITSResponse_descriptor_;
+  metadata.reflection = QueryLITSResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+const ::google::protobuf::EnumDescriptor* RetractResponse_Failure_Cause_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RetractResponse_Failure_Cause_descriptor_;
+}
+bool RetractResponse_Failure_Cause_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const RetractResponse_Failure_Cause RetractResponse_Failure::SAVE_IN_PROGRESS;
+const RetractResponse_Failure_Cause RetractResponse_Failure::RESTORE_IN_PROGRESS;
+const RetractResponse_Failure_Cause RetractResponse_Failure::Cause_MIN;
+const RetractResponse_Failure_Cause RetractResponse_Failure::Cause_MAX;
+const int RetractResponse_Failure::Cause_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int RetractResponse_Failure::kCauseFieldNumber;
+#endif  // !_MSC_VER
+
+RetractResponse_Failure::RetractResponse_Failure()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RetractResponse_Failure::InitAsDefaultInstance() {
+}
+
+RetractResponse_Failure::RetractResponse_Failure(const RetractResponse_Failure& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RetractResponse_Failure::SharedCtor() {
+  _cached_size_ = 0;
+  cause_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RetractResponse_Failure::~RetractResponse_Failure() {
+  SharedDtor();
+}
+
+void RetractResponse_Failure::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void RetractResponse_Failure::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RetractResponse_Failure::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RetractResponse_Failure_descriptor_;
+}
+
+const RetractResponse_Failure& RetractResponse_Failure::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RetractResponse_Failure* RetractResponse_Failure::default_instance_ = NULL;
+
+RetractResponse_Failure* RetractResponse_Failure::New() const {
+  return new RetractResponse_Failure;
+}
+
+void RetractResponse_Failure::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    cause_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RetractResponse_Failure::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.RetractResponse.Failure.Cause cause = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::RetractResponse_Failure_Cause_IsValid(value)) {
+            set_cause(static_cast< ::ohla::rti::messages::proto::RetractResponse_Failure_Cause >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RetractResponse_Failure::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.RetractResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->cause(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RetractResponse_Failure::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.RetractResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->cause(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RetractResponse_Failure::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.RetractResponse.Failure.Cause cause = 1;
+    if (has_cause()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->cause());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RetractResponse_Failure::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RetractResponse_Failure* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RetractResponse_Failure*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RetractResponse_Failure::MergeFrom(const RetractResponse_Failure& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_cause()) {
+      set_cause(from.cause());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RetractResponse_Failure::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RetractResponse_Failure::CopyFrom(const RetractResponse_Failure& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RetractResponse_Failure::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void RetractResponse_Failure::Swap(RetractResponse_Failure* other) {
+  if (other != this) {
+    std::swap(cause_, other->cause_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RetractResponse_Failure::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RetractResponse_Failure_descriptor_;
+  metadata.reflection = RetractResponse_Failure_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int RetractResponse::kRequestIdFieldNumber;
+const int RetractResponse::kFailureFieldNumber;
+#endif  // !_MSC_VER
+
+RetractResponse::RetractResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RetractResponse::InitAsDefaultInstance() {
+  failure_ = const_cast< ::ohla::rti::messages::proto::RetractResponse_Failure*>(&::ohla::rti::messages::proto::RetractResponse_Failure::default_instance());
+}
+
+RetractResponse::RetractResponse(const RetractResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RetractResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  failure_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RetractResponse::~RetractResponse() {
+  SharedDtor();
+}
+
+void RetractResponse::SharedDtor() {
+  if (this != default_instance_) {
+    delete failure_;
+  }
+}
+
+void RetractResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RetractResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RetractResponse_descriptor_;
+}
+
+const RetractResponse& RetractResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RetractResponse* RetractResponse::default_instance_ = NULL;
+
+RetractResponse* RetractResponse::New() const {
+  return new RetractResponse;
+}
+
+void RetractResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_failure()) {
+      if (failure_ != NULL) failure_->::ohla::rti::messages::proto::RetractResponse_Failure::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RetractResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_failure;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.RetractResponse.Failure failure = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_failure:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_failure()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RetractResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.RetractResponse.Failure failure = 2;
+  if (has_failure()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->failure(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RetractResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.RetractResponse.Failure failure = 2;
+  if (has_failure()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->failure(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RetractResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // optional .ohla.rti.messages.proto.RetractResponse.Failure failure = 2;
+    if (has_failure()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->failure());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RetractResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RetractResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RetractResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RetractResponse::MergeFrom(const RetractResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_failure()) {
+      mutable_failure()->::ohla::rti::messages::proto::RetractResponse_Failure::MergeFrom(from.failure());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RetractResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RetractResponse::CopyFrom(const RetractResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RetractResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_failure()) {
+    if (!this->failure().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void RetractResponse::Swap(RetractResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(failure_, other->failure_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RetractResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RetractResponse_descriptor_;
+  metadata.reflection = RetractResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+const ::google::protobuf::EnumDescriptor* AssociateRegionsForUpdatesResponse_Failure_Cause_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AssociateRegionsForUpdatesResponse_Failure_Cause_descriptor_;
+}
+bool AssociateRegionsForUpdatesResponse_Failure_Cause_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const AssociateRegionsForUpdatesResponse_Failure_Cause AssociateRegionsForUpdatesResponse_Failure::SAVE_IN_PROGRESS;
+const AssociateRegionsForUpdatesResponse_Failure_Cause AssociateRegionsForUpdatesResponse_Failure::OBJECT_INSTANCE_NOT_KNOWN;
+const AssociateRegionsForUpdatesResponse_Failure_Cause AssociateRegionsForUpdatesResponse_Failure::Cause_MIN;
+const AssociateRegionsForUpdatesResponse_Failure_Cause AssociateRegionsForUpdatesResponse_Failure::Cause_MAX;
+const int AssociateRegionsForUpdatesResponse_Failure::Cause_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int AssociateRegionsForUpdatesResponse_Failure::kCauseFieldNumber;
+#endif  // !_MSC_VER
+
+AssociateRegionsForUpdatesResponse_Failure::AssociateRegionsForUpdatesResponse_Failure()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AssociateRegionsForUpdatesResponse_Failure::InitAsDefaultInstance() {
+}
+
+AssociateRegionsForUpdatesResponse_Failure::AssociateRegionsForUpdatesResponse_Failure(const AssociateRegionsForUpdatesResponse_Failure& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AssociateRegionsForUpdatesResponse_Failure::SharedCtor() {
+  _cached_size_ = 0;
+  cause_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AssociateRegionsForUpdatesResponse_Failure::~AssociateRegionsForUpdatesResponse_Failure() {
+  SharedDtor();
+}
+
+void AssociateRegionsForUpdatesResponse_Failure::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void AssociateRegionsForUpdatesResponse_Failure::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AssociateRegionsForUpdatesResponse_Failure::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AssociateRegionsForUpdatesResponse_Failure_descriptor_;
+}
+
+const AssociateRegionsForUpdatesResponse_Failure& AssociateRegionsForUpdatesResponse_Failure::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AssociateRegionsForUpdatesResponse_Failure* AssociateRegionsForUpdatesResponse_Failure::default_instance_ = NULL;
+
+AssociateRegionsForUpdatesResponse_Failure* AssociateRegionsForUpdatesResponse_Failure::New() const {
+  return new AssociateRegionsForUpdatesResponse_Failure;
+}
+
+void AssociateRegionsForUpdatesResponse_Failure::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    cause_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AssociateRegionsForUpdatesResponse_Failure::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.AssociateRegionsForUpdatesResponse.Failure.Cause cause = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure_Cause_IsValid(value)) {
+            set_cause(static_cast< ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure_Cause >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AssociateRegionsForUpdatesResponse_Failure::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.AssociateRegionsForUpdatesResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->cause(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AssociateRegionsForUpdatesResponse_Failure::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.AssociateRegionsForUpdatesResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->cause(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AssociateRegionsForUpdatesResponse_Failure::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.AssociateRegionsForUpdatesResponse.Failure.Cause cause = 1;
+    if (has_cause()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->cause());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AssociateRegionsForUpdatesResponse_Failure::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AssociateRegionsForUpdatesResponse_Failure* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AssociateRegionsForUpdatesResponse_Failure*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AssociateRegionsForUpdatesResponse_Failure::MergeFrom(const AssociateRegionsForUpdatesResponse_Failure& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_cause()) {
+      set_cause(from.cause());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AssociateRegionsForUpdatesResponse_Failure::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AssociateRegionsForUpdatesResponse_Failure::CopyFrom(const AssociateRegionsForUpdatesResponse_Failure& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AssociateRegionsForUpdatesResponse_Failure::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void AssociateRegionsForUpdatesResponse_Failure::Swap(AssociateRegionsForUpdatesResponse_Failure* other) {
+  if (other != this) {
+    std::swap(cause_, other->cause_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AssociateRegionsForUpdatesResponse_Failure::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AssociateRegionsForUpdatesResponse_Failure_descriptor_;
+  metadata.reflection = AssociateRegionsForUpdatesResponse_Failure_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int AssociateRegionsForUpdatesResponse::kRequestIdFieldNumber;
+const int AssociateRegionsForUpdatesResponse::kFailureFieldNumber;
+#endif  // !_MSC_VER
+
+AssociateRegionsForUpdatesResponse::AssociateRegionsForUpdatesResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AssociateRegionsForUpdatesResponse::InitAsDefaultInstance() {
+  failure_ = const_cast< ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure*>(&::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure::default_instance());
+}
+
+AssociateRegionsForUpdatesResponse::AssociateRegionsForUpdatesResponse(const AssociateRegionsForUpdatesResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AssociateRegionsForUpdatesResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  failure_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AssociateRegionsForUpdatesResponse::~AssociateRegionsForUpdatesResponse() {
+  SharedDtor();
+}
+
+void AssociateRegionsForUpdatesResponse::SharedDtor() {
+  if (this != default_instance_) {
+    delete failure_;
+  }
+}
+
+void AssociateRegionsForUpdatesResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AssociateRegionsForUpdatesResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AssociateRegionsForUpdatesResponse_descriptor_;
+}
+
+const AssociateRegionsForUpdatesResponse& AssociateRegionsForUpdatesResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AssociateRegionsForUpdatesResponse* AssociateRegionsForUpdatesResponse::default_instance_ = NULL;
+
+AssociateRegionsForUpdatesResponse* AssociateRegionsForUpdatesResponse::New() const {
+  return new AssociateRegionsForUpdatesResponse;
+}
+
+void AssociateRegionsForUpdatesResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_failure()) {
+      if (failure_ != NULL) failure_->::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AssociateRegionsForUpdatesResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_failure;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.AssociateRegionsForUpdatesResponse.Failure failure = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_failure:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_failure()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AssociateRegionsForUpdatesResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.AssociateRegionsForUpdatesResponse.Failure failure = 2;
+  if (has_failure()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->failure(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AssociateRegionsForUpdatesResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.AssociateRegionsForUpdatesResponse.Failure failure = 2;
+  if (has_failure()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->failure(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AssociateRegionsForUpdatesResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // optional .ohla.rti.messages.proto.AssociateRegionsForUpdatesResponse.Failure failure = 2;
+    if (has_failure()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->failure());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AssociateRegionsForUpdatesResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AssociateRegionsForUpdatesResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AssociateRegionsForUpdatesResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AssociateRegionsForUpdatesResponse::MergeFrom(const AssociateRegionsForUpdatesResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_failure()) {
+      mutable_failure()->::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure::MergeFrom(from.failure());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AssociateRegionsForUpdatesResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AssociateRegionsForUpdatesResponse::CopyFrom(const AssociateRegionsForUpdatesResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AssociateRegionsForUpdatesResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_failure()) {
+    if (!this->failure().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AssociateRegionsForUpdatesResponse::Swap(AssociateRegionsForUpdatesResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(failure_, other->failure_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AssociateRegionsForUpdatesResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AssociateRegionsForUpdatesResponse_descriptor_;
+  metadata.reflection = AssociateRegionsForUpdatesResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+const ::google::protobuf::EnumDescriptor* UnassociateRegionsForUpdatesResponse_Failure_Cause_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return UnassociateRegionsForUpdatesResponse_Failure_Cause_descriptor_;
+}
+bool UnassociateRegionsForUpdatesResponse_Failure_Cause_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const UnassociateRegionsForUpdatesResponse_Failure_Cause UnassociateRegionsForUpdatesResponse_Failure::SAVE_IN_PROGRESS;
+const UnassociateRegionsForUpdatesResponse_Failure_Cause UnassociateRegionsForUpdatesResponse_Failure::OBJECT_INSTANCE_NOT_KNOWN;
+const UnassociateRegionsForUpdatesResponse_Failure_Cause UnassociateRegionsForUpdatesResponse_Failure::Cause_MIN;
+const UnassociateRegionsForUpdatesResponse_Failure_Cause UnassociateRegionsForUpdatesResponse_Failure::Cause_MAX;
+const int UnassociateRegionsForUpdatesResponse_Failure::Cause_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int UnassociateRegionsForUpdatesResponse_Failure::kCauseFieldNumber;
+#endif  // !_MSC_VER
+
+UnassociateRegionsForUpdatesResponse_Failure::UnassociateRegionsForUpdatesResponse_Failure()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void UnassociateRegionsForUpdatesResponse_Failure::InitAsDefaultInstance() {
+}
+
+UnassociateRegionsForUpdatesResponse_Failure::UnassociateRegionsForUpdatesResponse_Failure(const UnassociateRegionsForUpdatesResponse_Failure& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void UnassociateRegionsForUpdatesResponse_Failure::SharedCtor() {
+  _cached_size_ = 0;
+  cause_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+UnassociateRegionsForUpdatesResponse_Failure::~UnassociateRegionsForUpdatesResponse_Failure() {
+  SharedDtor();
+}
+
+void UnassociateRegionsForUpdatesResponse_Failure::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void UnassociateRegionsForUpdatesResponse_Failure::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* UnassociateRegionsForUpdatesResponse_Failure::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return UnassociateRegionsForUpdatesResponse_Failure_descriptor_;
+}
+
+const UnassociateRegionsForUpdatesResponse_Failure& UnassociateRegionsForUpdatesResponse_Failure::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+UnassociateRegionsForUpdatesResponse_Failure* UnassociateRegionsForUpdatesResponse_Failure::default_instance_ = NULL;
+
+UnassociateRegionsForUpdatesResponse_Failure* UnassociateRegionsForUpdatesResponse_Failure::New() const {
+  return new UnassociateRegionsForUpdatesResponse_Failure;
+}
+
+void UnassociateRegionsForUpdatesResponse_Failure::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    cause_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool UnassociateRegionsForUpdatesResponse_Failure::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.UnassociateRegionsForUpdatesResponse.Failure.Cause cause = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure_Cause_IsValid(value)) {
+            set_cause(static_cast< ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure_Cause >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void UnassociateRegionsForUpdatesResponse_Failure::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.UnassociateRegionsForUpdatesResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->cause(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* UnassociateRegionsForUpdatesResponse_Failure::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.UnassociateRegionsForUpdatesResponse.Failure.Cause cause = 1;
+  if (has_cause()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->cause(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int UnassociateRegionsForUpdatesResponse_Failure::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.UnassociateRegionsForUpdatesResponse.Failure.Cause cause = 1;
+    if (has_cause()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->cause());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void UnassociateRegionsForUpdatesResponse_Failure::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const UnassociateRegionsForUpdatesResponse_Failure* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const UnassociateRegionsForUpdatesResponse_Failure*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void UnassociateRegionsForUpdatesResponse_Failure::MergeFrom(const UnassociateRegionsForUpdatesResponse_Failure& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_cause()) {
+      set_cause(from.cause());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void UnassociateRegionsForUpdatesResponse_Failure::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void UnassociateRegionsForUpdatesResponse_Failure::CopyFrom(const UnassociateRegionsForUpdatesResponse_Failure& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool UnassociateRegionsForUpdatesResponse_Failure::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void UnassociateRegionsForUpdatesResponse_Failure::Swap(UnassociateRegionsForUpdatesResponse_Failure* other) {
+  if (other != this) {
+    std::swap(cause_, other->cause_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata UnassociateRegionsForUpdatesResponse_Failure::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = UnassociateRegionsForUpdatesResponse_Failure_descriptor_;
+  metadata.reflection = UnassociateRegionsForUpdatesResponse_Failure_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int UnassociateRegionsForUpdatesResponse::kRequestIdFieldNumber;
+const int UnassociateRegionsForUpdatesResponse::kFailureFieldNumber;
+#endif  // !_MSC_VER
+
+UnassociateRegionsForUpdatesResponse::UnassociateRegionsForUpdatesResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void UnassociateRegionsForUpdatesResponse::InitAsDefaultInstance() {
+  failure_ = const_cast< ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure*>(&::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure::default_instance());
+}
+
+UnassociateRegionsForUpdatesResponse::UnassociateRegionsForUpdatesResponse(const UnassociateRegionsForUpdatesResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void UnassociateRegionsForUpdatesResponse::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  failure_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+UnassociateRegionsForUpdatesResponse::~UnassociateRegionsForUpdatesResponse() {
+  SharedDtor();
+}
+
+void UnassociateRegionsForUpdatesResponse::SharedDtor() {
+  if (this != default_instance_) {
+    delete failure_;
+  }
+}
+
+void UnassociateRegionsForUpdatesResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* UnassociateRegionsForUpdatesResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return UnassociateRegionsForUpdatesResponse_descriptor_;
+}
+
+const UnassociateRegionsForUpdatesResponse& UnassociateRegionsForUpdatesResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+UnassociateRegionsForUpdatesResponse* UnassociateRegionsForUpdatesResponse::default_instance_ = NULL;
+
+UnassociateRegionsForUpdatesResponse* UnassociateRegionsForUpdatesResponse::New() const {
+  return new UnassociateRegionsForUpdatesResponse;
+}
+
+void UnassociateRegionsForUpdatesResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_failure()) {
+      if (failure_ != NULL) failure_->::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool UnassociateRegionsForUpdatesResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_failure;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.UnassociateRegionsForUpdatesResponse.Failure failure = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_failure:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_failure()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void UnassociateRegionsForUpdatesResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.UnassociateRegionsForUpdatesResponse.Failure failure = 2;
+  if (has_failure()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->failure(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* UnassociateRegionsForUpdatesResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.UnassociateRegionsForUpdatesResponse.Failure failure = 2;
+  if (has_failure()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->failure(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int UnassociateRegionsForUpdatesResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // optional .ohla.rti.messages.proto.UnassociateRegionsForUpdatesResponse.Failure failure = 2;
+    if (has_failure()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->failure());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void UnassociateRegionsForUpdatesResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const UnassociateRegionsForUpdatesResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const UnassociateRegionsForUpdatesResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void UnassociateRegionsForUpdatesResponse::MergeFrom(const UnassociateRegionsForUpdatesResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_failure()) {
+      mutable_failure()->::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure::MergeFrom(from.failure());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void UnassociateRegionsForUpdatesResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void UnassociateRegionsForUpdatesResponse::CopyFrom(const UnassociateRegionsForUpdatesResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool UnassociateRegionsForUpdatesResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_failure()) {
+    if (!this->failure().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void UnassociateRegionsForUpdatesResponse::Swap(UnassociateRegionsForUpdatesResponse* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(failure_, other->failure_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata UnassociateRegionsForUpdatesResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = UnassociateRegionsForUpdatesResponse_descriptor_;
+  metadata.reflection = UnassociateRegionsForUpdatesResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int SynchronizationPointRegistrationSucceeded::kLabelFieldNumber;
+#endif  // !_MSC_VER
+
+SynchronizationPointRegistrationSucceeded::SynchronizationPointRegistrationSucceeded()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void SynchronizationPointRegistrationSucceeded::InitAsDefaultInstance() {
+}
+
+SynchronizationPointRegistrationSucceeded::SynchronizationPointRegistrationSucceeded(const SynchronizationPointRegistrationSucceeded& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void SynchronizationPointRegistrationSucceeded::SharedCtor() {
+  _cached_size_ = 0;
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+SynchronizationPointRegistrationSucceeded::~SynchronizationPointRegistrationSucceeded() {
+  SharedDtor();
+}
+
+void SynchronizationPointRegistrationSucceeded::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void SynchronizationPointRegistrationSucceeded::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* SynchronizationPointRegistrationSucceeded::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return SynchronizationPointRegistrationSucceeded_descriptor_;
+}
+
+const SynchronizationPointRegistrationSucceeded& SynchronizationPointRegistrationSucceeded::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+SynchronizationPointRegistrationSucceeded* SynchronizationPointRegistrationSucceeded::default_instance_ = NULL;
+
+SynchronizationPointRegistrationSucceeded* SynchronizationPointRegistrationSucceeded::New() const {
+  return new SynchronizationPointRegistrationSucceeded;
+}
+
+void SynchronizationPointRegistrationSucceeded::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool SynchronizationPointRegistrationSucceeded::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string label = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void SynchronizationPointRegistrationSucceeded::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->label(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* SynchronizationPointRegistrationSucceeded::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->label(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int SynchronizationPointRegistrationSucceeded::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string label = 1;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void SynchronizationPointRegistrationSucceeded::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const SynchronizationPointRegistrationSucceeded* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const SynchronizationPointRegistrationSucceeded*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void SynchronizationPointRegistrationSucceeded::MergeFrom(const SynchronizationPointRegistrationSucceeded& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void SynchronizationPointRegistrationSucceeded::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void SynchronizationPointRegistrationSucceeded::CopyFrom(const SynchronizationPointRegistrationSucceeded& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool SynchronizationPointRegistrationSucceeded::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void SynchronizationPointRegistrationSucceeded::Swap(SynchronizationPointRegistrationSucceeded* other) {
+  if (other != this) {
+    std::swap(label_, other->label_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata SynchronizationPointRegistrationSucceeded::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = SynchronizationPointRegistrationSucceeded_descriptor_;
+  metadata.reflection = SynchronizationPointRegistrationSucceeded_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int SynchronizationPointRegistrationFailed::kLabelFieldNumber;
+const int SynchronizationPointRegistrationFailed::kSynchronizationPointFailureReasonFieldNumber;
+#endif  // !_MSC_VER
+
+SynchronizationPointRegistrationFailed::SynchronizationPointRegistrationFailed()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void SynchronizationPointRegistrationFailed::InitAsDefaultInstance() {
+}
+
+SynchronizationPointRegistrationFailed::SynchronizationPointRegistrationFailed(const SynchronizationPointRegistrationFailed& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void SynchronizationPointRegistrationFailed::SharedCtor() {
+  _cached_size_ = 0;
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  synchronizationpointfailurereason_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+SynchronizationPointRegistrationFailed::~SynchronizationPointRegistrationFailed() {
+  SharedDtor();
+}
+
+void SynchronizationPointRegistrationFailed::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void SynchronizationPointRegistrationFailed::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* SynchronizationPointRegistrationFailed::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return SynchronizationPointRegistrationFailed_descriptor_;
+}
+
+const SynchronizationPointRegistrationFailed& SynchronizationPointRegistrationFailed::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+SynchronizationPointRegistrationFailed* SynchronizationPointRegistrationFailed::default_instance_ = NULL;
+
+SynchronizationPointRegistrationFailed* SynchronizationPointRegistrationFailed::New() const {
+  return new SynchronizationPointRegistrationFailed;
+}
+
+void SynchronizationPointRegistrationFailed::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+    synchronizationpointfailurereason_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool SynchronizationPointRegistrationFailed::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string label = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_synchronizationPointFailureReason;
+        break;
+      }
+
+      // required .ohla.rti.messages.proto.SynchronizationPointFailureReason synchronizationPointFailureReason = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_synchronizationPointFailureReason:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::SynchronizationPointFailureReason_IsValid(value)) {
+            set_synchronizationpointfailurereason(static_cast< ::ohla::rti::messages::proto::SynchronizationPointFailureReason >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(2, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void SynchronizationPointRegistrationFailed::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->label(), output);
+  }
+
+  // required .ohla.rti.messages.proto.SynchronizationPointFailureReason synchronizationPointFailureReason = 2;
+  if (has_synchronizationpointfailurereason()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      2, this->synchronizationpointfailurereason(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* SynchronizationPointRegistrationFailed::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->label(), target);
+  }
+
+  // required .ohla.rti.messages.proto.SynchronizationPointFailureReason synchronizationPointFailureReason = 2;
+  if (has_synchronizationpointfailurereason()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      2, this->synchronizationpointfailurereason(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int SynchronizationPointRegistrationFailed::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string label = 1;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+    // required .ohla.rti.messages.proto.SynchronizationPointFailureReason synchronizationPointFailureReason = 2;
+    if (has_synchronizationpointfailurereason()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->synchronizationpointfailurereason());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void SynchronizationPointRegistrationFailed::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const SynchronizationPointRegistrationFailed* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const SynchronizationPointRegistrationFailed*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void SynchronizationPointRegistrationFailed::MergeFrom(const SynchronizationPointRegistrationFailed& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+    if (from.has_synchronizationpointfailurereason()) {
+      set_synchronizationpointfailurereason(from.synchronizationpointfailurereason());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void SynchronizationPointRegistrationFailed::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void SynchronizationPointRegistrationFailed::CopyFrom(const SynchronizationPointRegistrationFailed& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool SynchronizationPointRegistrationFailed::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void SynchronizationPointRegistrationFailed::Swap(SynchronizationPointRegistrationFailed* other) {
+  if (other != this) {
+    std::swap(label_, other->label_);
+    std::swap(synchronizationpointfailurereason_, other->synchronizationpointfailurereason_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata SynchronizationPointRegistrationFailed::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = SynchronizationPointRegistrationFailed_descriptor_;
+  metadata.reflection = SynchronizationPointRegistrationFailed_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AnnounceSynchronizationPoint::kLabelFieldNumber;
+const int AnnounceSynchronizationPoint::kTagFieldNumber;
+#endif  // !_MSC_VER
+
+AnnounceSynchronizationPoint::AnnounceSynchronizationPoint()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AnnounceSynchronizationPoint::InitAsDefaultInstance() {
+}
+
+AnnounceSynchronizationPoint::AnnounceSynchronizationPoint(const AnnounceSynchronizationPoint& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AnnounceSynchronizationPoint::SharedCtor() {
+  _cached_size_ = 0;
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AnnounceSynchronizationPoint::~AnnounceSynchronizationPoint() {
+  SharedDtor();
+}
+
+void AnnounceSynchronizationPoint::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void AnnounceSynchronizationPoint::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AnnounceSynchronizationPoint::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AnnounceSynchronizationPoint_descriptor_;
+}
+
+const AnnounceSynchronizationPoint& AnnounceSynchronizationPoint::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AnnounceSynchronizationPoint* AnnounceSynchronizationPoint::default_instance_ = NULL;
+
+AnnounceSynchronizationPoint* AnnounceSynchronizationPoint::New() const {
+  return new AnnounceSynchronizationPoint;
+}
+
+void AnnounceSynchronizationPoint::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AnnounceSynchronizationPoint::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string label = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AnnounceSynchronizationPoint::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->label(), output);
+  }
+
+  // optional bytes tag = 2;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      2, this->tag(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AnnounceSynchronizationPoint::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->label(), target);
+  }
+
+  // optional bytes tag = 2;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        2, this->tag(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AnnounceSynchronizationPoint::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string label = 1;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+    // optional bytes tag = 2;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AnnounceSynchronizationPoint::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AnnounceSynchronizationPoint* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AnnounceSynchronizationPoint*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AnnounceSynchronizationPoint::MergeFrom(const AnnounceSynchronizationPoint& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AnnounceSynchronizationPoint::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AnnounceSynchronizationPoint::CopyFrom(const AnnounceSynchronizationPoint& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AnnounceSynchronizationPoint::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void AnnounceSynchronizationPoint::Swap(AnnounceSynchronizationPoint* other) {
+  if (other != this) {
+    std::swap(label_, other->label_);
+    std::swap(tag_, other->tag_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AnnounceSynchronizationPoint::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AnnounceSynchronizationPoint_descriptor_;
+  metadata.reflection = AnnounceSynchronizationPoint_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FederationSynchronized::kLabelFieldNumber;
+const int FederationSynchronized::kFederateHandlesThatFailedToSynchronizeFieldNumber;
+#endif  // !_MSC_VER
+
+FederationSynchronized::FederationSynchronized()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationSynchronized::InitAsDefaultInstance() {
+}
+
+FederationSynchronized::FederationSynchronized(const FederationSynchronized& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationSynchronized::SharedCtor() {
+  _cached_size_ = 0;
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationSynchronized::~FederationSynchronized() {
+  SharedDtor();
+}
+
+void FederationSynchronized::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FederationSynchronized::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationSynchronized::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationSynchronized_descriptor_;
+}
+
+const FederationSynchronized& FederationSynchronized::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationSynchronized* FederationSynchronized::default_instance_ = NULL;
+
+FederationSynchronized* FederationSynchronized::New() const {
+  return new FederationSynchronized;
+}
+
+void FederationSynchronized::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+  }
+  federatehandlesthatfailedtosynchronize_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationSynchronized::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string label = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_federateHandlesThatFailedToSynchronize;
+        break;
+      }
+
+      // repeated uint32 federateHandlesThatFailedToSynchronize = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_federateHandlesThatFailedToSynchronize:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_federatehandlesthatfailedtosynchronize())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_federatehandlesthatfailedtosynchronize())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_federateHandlesThatFailedToSynchronize;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationSynchronized::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->label(), output);
+  }
+
+  // repeated uint32 federateHandlesThatFailedToSynchronize = 2;
+  for (int i = 0; i < this->federatehandlesthatfailedtosynchronize_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->federatehandlesthatfailedtosynchronize(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationSynchronized::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->label(), target);
+  }
+
+  // repeated uint32 federateHandlesThatFailedToSynchronize = 2;
+  for (int i = 0; i < this->federatehandlesthatfailedtosynchronize_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->federatehandlesthatfailedtosynchronize(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationSynchronized::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string label = 1;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+  }
+  // repeated uint32 federateHandlesThatFailedToSynchronize = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->federatehandlesthatfailedtosynchronize_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->federatehandlesthatfailedtosynchronize(i));
+    }
+    total_size += 1 * this->federatehandlesthatfailedtosynchronize_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationSynchronized::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationSynchronized* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationSynchronized*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationSynchronized::MergeFrom(const FederationSynchronized& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  federatehandlesthatfailedtosynchronize_.MergeFrom(from.federatehandlesthatfailedtosynchronize_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationSynchronized::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationSynchronized::CopyFrom(const FederationSynchronized& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationSynchronized::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void FederationSynchronized::Swap(FederationSynchronized* other) {
+  if (other != this) {
+    std::swap(label_, other->label_);
+    federatehandlesthatfailedtosynchronize_.Swap(&other->federatehandlesthatfailedtosynchronize_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationSynchronized::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationSynchronized_descriptor_;
+  metadata.reflection = FederationSynchronized_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int InitiateFederateSave::kLabelFieldNumber;
+const int InitiateFederateSave::kTimeFieldNumber;
+#endif  // !_MSC_VER
+
+InitiateFederateSave::InitiateFederateSave()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void InitiateFederateSave::InitAsDefaultInstance() {
+}
+
+InitiateFederateSave::InitiateFederateSave(const InitiateFederateSave& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void InitiateFederateSave::SharedCtor() {
+  _cached_size_ = 0;
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+InitiateFederateSave::~InitiateFederateSave() {
+  SharedDtor();
+}
+
+void InitiateFederateSave::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void InitiateFederateSave::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* InitiateFederateSave::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return InitiateFederateSave_descriptor_;
+}
+
+const InitiateFederateSave& InitiateFederateSave::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+InitiateFederateSave* InitiateFederateSave::default_instance_ = NULL;
+
+InitiateFederateSave* InitiateFederateSave::New() const {
+  return new InitiateFederateSave;
+}
+
+void InitiateFederateSave::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool InitiateFederateSave::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string label = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_time;
+        break;
+      }
+
+      // optional bytes time = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_time:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void InitiateFederateSave::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->label(), output);
+  }
+
+  // optional bytes time = 2;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      2, this->time(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* InitiateFederateSave::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->label(), target);
+  }
+
+  // optional bytes time = 2;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        2, this->time(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int InitiateFederateSave::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string label = 1;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+    // optional bytes time = 2;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void InitiateFederateSave::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const InitiateFederateSave* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const InitiateFederateSave*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void InitiateFederateSave::MergeFrom(const InitiateFederateSave& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void InitiateFederateSave::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void InitiateFederateSave::CopyFrom(const InitiateFederateSave& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool InitiateFederateSave::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void InitiateFederateSave::Swap(InitiateFederateSave* other) {
+  if (other != this) {
+    std::swap(label_, other->label_);
+    std::swap(time_, other->time_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata InitiateFederateSave::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = InitiateFederateSave_descriptor_;
+  metadata.reflection = InitiateFederateSave_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+FederationSaved::FederationSaved()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationSaved::InitAsDefaultInstance() {
+}
+
+FederationSaved::FederationSaved(const FederationSaved& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationSaved::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationSaved::~FederationSaved() {
+  SharedDtor();
+}
+
+void FederationSaved::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederationSaved::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationSaved::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationSaved_descriptor_;
+}
+
+const FederationSaved& FederationSaved::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationSaved* FederationSaved::default_instance_ = NULL;
+
+FederationSaved* FederationSaved::New() const {
+  return new FederationSaved;
+}
+
+void FederationSaved::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationSaved::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void FederationSaved::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationSaved::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationSaved::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationSaved::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationSaved* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationSaved*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationSaved::MergeFrom(const FederationSaved& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationSaved::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationSaved::CopyFrom(const FederationSaved& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationSaved::IsInitialized() const {
+
+  return true;
+}
+
+void FederationSaved::Swap(FederationSaved* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationSaved::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationSaved_descriptor_;
+  metadata.reflection = FederationSaved_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FederationNotSaved::kSaveFailureReasonFieldNumber;
+#endif  // !_MSC_VER
+
+FederationNotSaved::FederationNotSaved()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationNotSaved::InitAsDefaultInstance() {
+}
+
+FederationNotSaved::FederationNotSaved(const FederationNotSaved& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationNotSaved::SharedCtor() {
+  _cached_size_ = 0;
+  savefailurereason_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationNotSaved::~FederationNotSaved() {
+  SharedDtor();
+}
+
+void FederationNotSaved::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederationNotSaved::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationNotSaved::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationNotSaved_descriptor_;
+}
+
+const FederationNotSaved& FederationNotSaved::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationNotSaved* FederationNotSaved::default_instance_ = NULL;
+
+FederationNotSaved* FederationNotSaved::New() const {
+  return new FederationNotSaved;
+}
+
+void FederationNotSaved::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    savefailurereason_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationNotSaved::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.SaveFailureReason saveFailureReason = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::SaveFailureReason_IsValid(value)) {
+            set_savefailurereason(static_cast< ::ohla::rti::messages::proto::SaveFailureReason >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationNotSaved::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.SaveFailureReason saveFailureReason = 1;
+  if (has_savefailurereason()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->savefailurereason(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationNotSaved::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.SaveFailureReason saveFailureReason = 1;
+  if (has_savefailurereason()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->savefailurereason(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationNotSaved::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.SaveFailureReason saveFailureReason = 1;
+    if (has_savefailurereason()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->savefailurereason());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationNotSaved::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationNotSaved* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationNotSaved*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationNotSaved::MergeFrom(const FederationNotSaved& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_savefailurereason()) {
+      set_savefailurereason(from.savefailurereason());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationNotSaved::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationNotSaved::CopyFrom(const FederationNotSaved& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationNotSaved::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void FederationNotSaved::Swap(FederationNotSaved* other) {
+  if (other != this) {
+    std::swap(savefailurereason_, other->savefailurereason_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationNotSaved::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationNotSaved_descriptor_;
+  metadata.reflection = FederationNotSaved_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FederateSaveStatus::kFederateHandleFieldNumber;
+const int FederateSaveStatus::kSaveStatusFieldNumber;
+#endif  // !_MSC_VER
+
+FederateSaveStatus::FederateSaveStatus()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateSaveStatus::InitAsDefaultInstance() {
+}
+
+FederateSaveStatus::FederateSaveStatus(const FederateSaveStatus& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateSaveStatus::SharedCtor() {
+  _cached_size_ = 0;
+  federatehandle_ = 0u;
+  savestatus_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateSaveStatus::~FederateSaveStatus() {
+  SharedDtor();
+}
+
+void FederateSaveStatus::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederateSaveStatus::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateSaveStatus::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateSaveStatus_descriptor_;
+}
+
+const FederateSaveStatus& FederateSaveStatus::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateSaveStatus* FederateSaveStatus::default_instance_ = NULL;
+
+FederateSaveStatus* FederateSaveStatus::New() const {
+  return new FederateSaveStatus;
+}
+
+void FederateSaveStatus::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    federatehandle_ = 0u;
+    savestatus_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateSaveStatus::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 federateHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatehandle_)));
+          set_has_federatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_saveStatus;
+        break;
+      }
+
+      // required .ohla.rti.messages.proto.SaveStatus saveStatus = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_saveStatus:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::SaveStatus_IsValid(value)) {
+            set_savestatus(static_cast< ::ohla::rti::messages::proto::SaveStatus >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(2, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateSaveStatus::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 federateHandle = 1;
+  if (has_federatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->federatehandle(), output);
+  }
+
+  // required .ohla.rti.messages.proto.SaveStatus saveStatus = 2;
+  if (has_savestatus()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      2, this->savestatus(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateSaveStatus::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 federateHandle = 1;
+  if (has_federatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->federatehandle(), target);
+  }
+
+  // required .ohla.rti.messages.proto.SaveStatus saveStatus = 2;
+  if (has_savestatus()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      2, this->savestatus(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateSaveStatus::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 federateHandle = 1;
+    if (has_federatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatehandle());
+    }
+
+    // required .ohla.rti.messages.proto.SaveStatus saveStatus = 2;
+    if (has_savestatus()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->savestatus());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateSaveStatus::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateSaveStatus* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateSaveStatus*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateSaveStatus::MergeFrom(const FederateSaveStatus& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_federatehandle()) {
+      set_federatehandle(from.federatehandle());
+    }
+    if (from.has_savestatus()) {
+      set_savestatus(from.savestatus());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateSaveStatus::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateSaveStatus::CopyFrom(const FederateSaveStatus& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateSaveStatus::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void FederateSaveStatus::Swap(FederateSaveStatus* other) {
+  if (other != this) {
+    std::swap(federatehandle_, other->federatehandle_);
+    std::swap(savestatus_, other->savestatus_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateSaveStatus::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateSaveStatus_descriptor_;
+  metadata.reflection = FederateSaveStatus_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FederationSaveStatusResponse::kFederationSaveStatusFieldNumber;
+#endif  // !_MSC_VER
+
+FederationSaveStatusResponse::FederationSaveStatusResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationSaveStatusResponse::InitAsDefaultInstance() {
+}
+
+FederationSaveStatusResponse::FederationSaveStatusResponse(const FederationSaveStatusResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationSaveStatusResponse::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationSaveStatusResponse::~FederationSaveStatusResponse() {
+  SharedDtor();
+}
+
+void FederationSaveStatusResponse::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederationSaveStatusResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationSaveStatusResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationSaveStatusResponse_descriptor_;
+}
+
+const FederationSaveStatusResponse& FederationSaveStatusResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationSaveStatusResponse* FederationSaveStatusResponse::default_instance_ = NULL;
+
+FederationSaveStatusResponse* FederationSaveStatusResponse::New() const {
+  return new FederationSaveStatusResponse;
+}
+
+void FederationSaveStatusResponse::Clear() {
+  federationsavestatus_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationSaveStatusResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .ohla.rti.messages.proto.FederateSaveStatus federationSaveStatus = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_federationSaveStatus:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_federationsavestatus()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_federationSaveStatus;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationSaveStatusResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .ohla.rti.messages.proto.FederateSaveStatus federationSaveStatus = 1;
+  for (int i = 0; i < this->federationsavestatus_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->federationsavestatus(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationSaveStatusResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .ohla.rti.messages.proto.FederateSaveStatus federationSaveStatus = 1;
+  for (int i = 0; i < this->federationsavestatus_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->federationsavestatus(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationSaveStatusResponse::ByteSize() const {
+  int total_size = 0;
+
+  // repeated .ohla.rti.messages.proto.FederateSaveStatus federationSaveStatus = 1;
+  total_size += 1 * this->federationsavestatus_size();
+  for (int i = 0; i < this->federationsavestatus_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->federationsavestatus(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationSaveStatusResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationSaveStatusResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationSaveStatusResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationSaveStatusResponse::MergeFrom(const FederationSaveStatusResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  federationsavestatus_.MergeFrom(from.federationsavestatus_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationSaveStatusResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationSaveStatusResponse::CopyFrom(const FederationSaveStatusResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationSaveStatusResponse::IsInitialized() const {
+
+  for (int i = 0; i < federationsavestatus_size(); i++) {
+    if (!this->federationsavestatus(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FederationSaveStatusResponse::Swap(FederationSaveStatusResponse* other) {
+  if (other != this) {
+    federationsavestatus_.Swap(&other->federationsavestatus_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationSaveStatusResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationSaveStatusResponse_descriptor_;
+  metadata.reflection = FederationSaveStatusResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RequestFederationRestoreSucceeded::kLabelFieldNumber;
+#endif  // !_MSC_VER
+
+RequestFederationRestoreSucceeded::RequestFederationRestoreSucceeded()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestFederationRestoreSucceeded::InitAsDefaultInstance() {
+}
+
+RequestFederationRestoreSucceeded::RequestFederationRestoreSucceeded(const RequestFederationRestoreSucceeded& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestFederationRestoreSucceeded::SharedCtor() {
+  _cached_size_ = 0;
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestFederationRestoreSucceeded::~RequestFederationRestoreSucceeded() {
+  SharedDtor();
+}
+
+void RequestFederationRestoreSucceeded::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void RequestFederationRestoreSucceeded::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestFederationRestoreSucceeded::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestFederationRestoreSucceeded_descriptor_;
+}
+
+const RequestFederationRestoreSucceeded& RequestFederationRestoreSucceeded::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestFederationRestoreSucceeded* RequestFederationRestoreSucceeded::default_instance_ = NULL;
+
+RequestFederationRestoreSucceeded* RequestFederationRestoreSucceeded::New() const {
+  return new RequestFederationRestoreSucceeded;
+}
+
+void RequestFederationRestoreSucceeded::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestFederationRestoreSucceeded::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string label = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestFederationRestoreSucceeded::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->label(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestFederationRestoreSucceeded::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->label(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestFederationRestoreSucceeded::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string label = 1;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestFederationRestoreSucceeded::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestFederationRestoreSucceeded* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestFederationRestoreSucceeded*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestFederationRestoreSucceeded::MergeFrom(const RequestFederationRestoreSucceeded& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestFederationRestoreSucceeded::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestFederationRestoreSucceeded::CopyFrom(const RequestFederationRestoreSucceeded& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestFederationRestoreSucceeded::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void RequestFederationRestoreSucceeded::Swap(RequestFederationRestoreSucceeded* other) {
+  if (other != this) {
+    std::swap(label_, other->label_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestFederationRestoreSucceeded::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestFederationRestoreSucceeded_descriptor_;
+  metadata.reflection = RequestFederationRestoreSucceeded_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RequestFederationRestoreFailed::kLabelFieldNumber;
+#endif  // !_MSC_VER
+
+RequestFederationRestoreFailed::RequestFederationRestoreFailed()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestFederationRestoreFailed::InitAsDefaultInstance() {
+}
+
+RequestFederationRestoreFailed::RequestFederationRestoreFailed(const RequestFederationRestoreFailed& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestFederationRestoreFailed::SharedCtor() {
+  _cached_size_ = 0;
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestFederationRestoreFailed::~RequestFederationRestoreFailed() {
+  SharedDtor();
+}
+
+void RequestFederationRestoreFailed::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void RequestFederationRestoreFailed::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestFederationRestoreFailed::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestFederationRestoreFailed_descriptor_;
+}
+
+const RequestFederationRestoreFailed& RequestFederationRestoreFailed::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestFederationRestoreFailed* RequestFederationRestoreFailed::default_instance_ = NULL;
+
+RequestFederationRestoreFailed* RequestFederationRestoreFailed::New() const {
+  return new RequestFederationRestoreFailed;
+}
+
+void RequestFederationRestoreFailed::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestFederationRestoreFailed::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string label = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestFederationRestoreFailed::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->label(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestFederationRestoreFailed::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->label(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestFederationRestoreFailed::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string label = 1;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestFederationRestoreFailed::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestFederationRestoreFailed* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestFederationRestoreFailed*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestFederationRestoreFailed::MergeFrom(const RequestFederationRestoreFailed& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestFederationRestoreFailed::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestFederationRestoreFailed::CopyFrom(const RequestFederationRestoreFailed& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestFederationRestoreFailed::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void RequestFederationRestoreFailed::Swap(RequestFederationRestoreFailed* other) {
+  if (other != this) {
+    std::swap(label_, other->label_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestFederationRestoreFailed::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestFederationRestoreFailed_descriptor_;
+  metadata.reflection = RequestFederationRestoreFailed_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FederationRestoreBegun::kLabelFieldNumber;
+const int FederationRestoreBegun::kFederateNameFieldNumber;
+const int FederationRestoreBegun::kFederateHandleFieldNumber;
+#endif  // !_MSC_VER
+
+FederationRestoreBegun::FederationRestoreBegun()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationRestoreBegun::InitAsDefaultInstance() {
+}
+
+FederationRestoreBegun::FederationRestoreBegun(const FederationRestoreBegun& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationRestoreBegun::SharedCtor() {
+  _cached_size_ = 0;
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  federatehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationRestoreBegun::~FederationRestoreBegun() {
+  SharedDtor();
+}
+
+void FederationRestoreBegun::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatename_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FederationRestoreBegun::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationRestoreBegun::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationRestoreBegun_descriptor_;
+}
+
+const FederationRestoreBegun& FederationRestoreBegun::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationRestoreBegun* FederationRestoreBegun::default_instance_ = NULL;
+
+FederationRestoreBegun* FederationRestoreBegun::New() const {
+  return new FederationRestoreBegun;
+}
+
+void FederationRestoreBegun::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+    if (has_federatename()) {
+      if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+        federatename_->clear();
+      }
+    }
+    federatehandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationRestoreBegun::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string label = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_federateName;
+        break;
+      }
+
+      // required string federateName = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_federateName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_federatename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->federatename().data(), this->federatename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_federateHandle;
+        break;
+      }
+
+      // required uint32 federateHandle = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_federateHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatehandle_)));
+          set_has_federatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationRestoreBegun::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->label(), output);
+  }
+
+  // required string federateName = 2;
+  if (has_federatename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatename().data(), this->federatename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->federatename(), output);
+  }
+
+  // required uint32 federateHandle = 3;
+  if (has_federatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(3, this->federatehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationRestoreBegun::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->label(), target);
+  }
+
+  // required string federateName = 2;
+  if (has_federatename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatename().data(), this->federatename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->federatename(), target);
+  }
+
+  // required uint32 federateHandle = 3;
+  if (has_federatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(3, this->federatehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationRestoreBegun::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string label = 1;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+    // required string federateName = 2;
+    if (has_federatename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->federatename());
+    }
+
+    // required uint32 federateHandle = 3;
+    if (has_federatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationRestoreBegun::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationRestoreBegun* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationRestoreBegun*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationRestoreBegun::MergeFrom(const FederationRestoreBegun& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+    if (from.has_federatename()) {
+      set_federatename(from.federatename());
+    }
+    if (from.has_federatehandle()) {
+      set_federatehandle(from.federatehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationRestoreBegun::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationRestoreBegun::CopyFrom(const FederationRestoreBegun& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationRestoreBegun::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000007) != 0x00000007) return false;
+
+  return true;
+}
+
+void FederationRestoreBegun::Swap(FederationRestoreBegun* other) {
+  if (other != this) {
+    std::swap(label_, other->label_);
+    std::swap(federatename_, other->federatename_);
+    std::swap(federatehandle_, other->federatehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationRestoreBegun::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationRestoreBegun_descriptor_;
+  metadata.reflection = FederationRestoreBegun_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+InitiateFederateRestore::InitiateFederateRestore()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void InitiateFederateRestore::InitAsDefaultInstance() {
+}
+
+InitiateFederateRestore::InitiateFederateRestore(const InitiateFederateRestore& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void InitiateFederateRestore::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+InitiateFederateRestore::~InitiateFederateRestore() {
+  SharedDtor();
+}
+
+void InitiateFederateRestore::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void InitiateFederateRestore::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* InitiateFederateRestore::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return InitiateFederateRestore_descriptor_;
+}
+
+const InitiateFederateRestore& InitiateFederateRestore::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+InitiateFederateRestore* InitiateFederateRestore::default_instance_ = NULL;
+
+InitiateFederateRestore* InitiateFederateRestore::New() const {
+  return new InitiateFederateRestore;
+}
+
+void InitiateFederateRestore::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool InitiateFederateRestore::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void InitiateFederateRestore::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* InitiateFederateRestore::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int InitiateFederateRestore::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void InitiateFederateRestore::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const InitiateFederateRestore* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const InitiateFederateRestore*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void InitiateFederateRestore::MergeFrom(const InitiateFederateRestore& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void InitiateFederateRestore::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void InitiateFederateRestore::CopyFrom(const InitiateFederateRestore& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool InitiateFederateRestore::IsInitialized() const {
+
+  return true;
+}
+
+void InitiateFederateRestore::Swap(InitiateFederateRestore* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata InitiateFederateRestore::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = InitiateFederateRestore_descriptor_;
+  metadata.reflection = InitiateFederateRestore_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+FederationRestored::FederationRestored()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationRestored::InitAsDefaultInstance() {
+}
+
+FederationRestored::FederationRestored(const FederationRestored& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationRestored::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationRestored::~FederationRestored() {
+  SharedDtor();
+}
+
+void FederationRestored::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederationRestored::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationRestored::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationRestored_descriptor_;
+}
+
+const FederationRestored& FederationRestored::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationRestored* FederationRestored::default_instance_ = NULL;
+
+FederationRestored* FederationRestored::New() const {
+  return new FederationRestored;
+}
+
+void FederationRestored::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationRestored::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void FederationRestored::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationRestored::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationRestored::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationRestored::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationRestored* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationRestored*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationRestored::MergeFrom(const FederationRestored& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationRestored::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationRestored::CopyFrom(const FederationRestored& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationRestored::IsInitialized() const {
+
+  return true;
+}
+
+void FederationRestored::Swap(FederationRestored* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationRestored::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationRestored_descriptor_;
+  metadata.reflection = FederationRestored_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FederationNotRestored::kRestoreFailureReasonFieldNumber;
+#endif  // !_MSC_VER
+
+FederationNotRestored::FederationNotRestored()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationNotRestored::InitAsDefaultInstance() {
+}
+
+FederationNotRestored::FederationNotRestored(const FederationNotRestored& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationNotRestored::SharedCtor() {
+  _cached_size_ = 0;
+  restorefailurereason_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationNotRestored::~FederationNotRestored() {
+  SharedDtor();
+}
+
+void FederationNotRestored::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederationNotRestored::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationNotRestored::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationNotRestored_descriptor_;
+}
+
+const FederationNotRestored& FederationNotRestored::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationNotRestored* FederationNotRestored::default_instance_ = NULL;
+
+FederationNotRestored* FederationNotRestored::New() const {
+  return new FederationNotRestored;
+}
+
+void FederationNotRestored::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    restorefailurereason_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationNotRestored::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.messages.proto.RestoreFailureReason restoreFailureReason = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::RestoreFailureReason_IsValid(value)) {
+            set_restorefailurereason(static_cast< ::ohla::rti::messages::proto::RestoreFailureReason >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationNotRestored::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.messages.proto.RestoreFailureReason restoreFailureReason = 1;
+  if (has_restorefailurereason()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->restorefailurereason(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationNotRestored::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.messages.proto.RestoreFailureReason restoreFailureReason = 1;
+  if (has_restorefailurereason()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->restorefailurereason(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationNotRestored::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.messages.proto.RestoreFailureReason restoreFailureReason = 1;
+    if (has_restorefailurereason()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->restorefailurereason());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationNotRestored::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationNotRestored* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationNotRestored*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationNotRestored::MergeFrom(const FederationNotRestored& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_restorefailurereason()) {
+      set_restorefailurereason(from.restorefailurereason());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationNotRestored::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationNotRestored::CopyFrom(const FederationNotRestored& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationNotRestored::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void FederationNotRestored::Swap(FederationNotRestored* other) {
+  if (other != this) {
+    std::swap(restorefailurereason_, other->restorefailurereason_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationNotRestored::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationNotRestored_descriptor_;
+  metadata.reflection = FederationNotRestored_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FederateRestoreStatus::kPreRestoreFederateHandleFieldNumber;
+const int FederateRestoreStatus::kPostRestoreFederateHandleFieldNumber;
+const int FederateRestoreStatus::kRestoreStatusFieldNumber;
+#endif  // !_MSC_VER
+
+FederateRestoreStatus::FederateRestoreStatus()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateRestoreStatus::InitAsDefaultInstance() {
+}
+
+FederateRestoreStatus::FederateRestoreStatus(const FederateRestoreStatus& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateRestoreStatus::SharedCtor() {
+  _cached_size_ = 0;
+  prerestorefederatehandle_ = 0u;
+  postrestorefederatehandle_ = 0u;
+  restorestatus_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateRestoreStatus::~FederateRestoreStatus() {
+  SharedDtor();
+}
+
+void FederateRestoreStatus::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederateRestoreStatus::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateRestoreStatus::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateRestoreStatus_descriptor_;
+}
+
+const FederateRestoreStatus& FederateRestoreStatus::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateRestoreStatus* FederateRestoreStatus::default_instance_ = NULL;
+
+FederateRestoreStatus* FederateRestoreStatus::New() const {
+  return new FederateRestoreStatus;
+}
+
+void FederateRestoreStatus::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    prerestorefederatehandle_ = 0u;
+    postrestorefederatehandle_ = 0u;
+    restorestatus_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateRestoreStatus::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 preRestoreFederateHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &prerestorefederatehandle_)));
+          set_has_prerestorefederatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_postRestoreFederateHandle;
+        break;
+      }
+
+      // optional uint32 postRestoreFederateHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_postRestoreFederateHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &postrestorefederatehandle_)));
+          set_has_postrestorefederatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_restoreStatus;
+        break;
+      }
+
+      // required .ohla.rti.messages.proto.RestoreStatus restoreStatus = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_restoreStatus:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::RestoreStatus_IsValid(value)) {
+            set_restorestatus(static_cast< ::ohla::rti::messages::proto::RestoreStatus >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(3, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateRestoreStatus::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 preRestoreFederateHandle = 1;
+  if (has_prerestorefederatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->prerestorefederatehandle(), output);
+  }
+
+  // optional uint32 postRestoreFederateHandle = 2;
+  if (has_postrestorefederatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->postrestorefederatehandle(), output);
+  }
+
+  // required .ohla.rti.messages.proto.RestoreStatus restoreStatus = 3;
+  if (has_restorestatus()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      3, this->restorestatus(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateRestoreStatus::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 preRestoreFederateHandle = 1;
+  if (has_prerestorefederatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->prerestorefederatehandle(), target);
+  }
+
+  // optional uint32 postRestoreFederateHandle = 2;
+  if (has_postrestorefederatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->postrestorefederatehandle(), target);
+  }
+
+  // required .ohla.rti.messages.proto.RestoreStatus restoreStatus = 3;
+  if (has_restorestatus()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      3, this->restorestatus(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateRestoreStatus::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 preRestoreFederateHandle = 1;
+    if (has_prerestorefederatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->prerestorefederatehandle());
+    }
+
+    // optional uint32 postRestoreFederateHandle = 2;
+    if (has_postrestorefederatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->postrestorefederatehandle());
+    }
+
+    // required .ohla.rti.messages.proto.RestoreStatus restoreStatus = 3;
+    if (has_restorestatus()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->restorestatus());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateRestoreStatus::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateRestoreStatus* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateRestoreStatus*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateRestoreStatus::MergeFrom(const FederateRestoreStatus& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_prerestorefederatehandle()) {
+      set_prerestorefederatehandle(from.prerestorefederatehandle());
+    }
+    if (from.has_postrestorefederatehandle()) {
+      set_postrestorefederatehandle(from.postrestorefederatehandle());
+    }
+    if (from.has_restorestatus()) {
+      set_restorestatus(from.restorestatus());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateRestoreStatus::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateRestoreStatus::CopyFrom(const FederateRestoreStatus& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateRestoreStatus::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000005) != 0x00000005) return false;
+
+  return true;
+}
+
+void FederateRestoreStatus::Swap(FederateRestoreStatus* other) {
+  if (other != this) {
+    std::swap(prerestorefederatehandle_, other->prerestorefederatehandle_);
+    std::swap(postrestorefederatehandle_, other->postrestorefederatehandle_);
+    std::swap(restorestatus_, other->restorestatus_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateRestoreStatus::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateRestoreStatus_descriptor_;
+  metadata.reflection = FederateRestoreStatus_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FederationRestoreStatusResponse::kFederationRestoreStatusFieldNumber;
+#endif  // !_MSC_VER
+
+FederationRestoreStatusResponse::FederationRestoreStatusResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationRestoreStatusResponse::InitAsDefaultInstance() {
+}
+
+FederationRestoreStatusResponse::FederationRestoreStatusResponse(const FederationRestoreStatusResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationRestoreStatusResponse::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationRestoreStatusResponse::~FederationRestoreStatusResponse() {
+  SharedDtor();
+}
+
+void FederationRestoreStatusResponse::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederationRestoreStatusResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationRestoreStatusResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationRestoreStatusResponse_descriptor_;
+}
+
+const FederationRestoreStatusResponse& FederationRestoreStatusResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationRestoreStatusResponse* FederationRestoreStatusResponse::default_instance_ = NULL;
+
+FederationRestoreStatusResponse* FederationRestoreStatusResponse::New() const {
+  return new FederationRestoreStatusResponse;
+}
+
+void FederationRestoreStatusResponse::Clear() {
+  federationrestorestatus_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationRestoreStatusResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .ohla.rti.messages.proto.FederateRestoreStatus federationRestoreStatus = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_federationRestoreStatus:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_federationrestorestatus()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_federationRestoreStatus;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationRestoreStatusResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .ohla.rti.messages.proto.FederateRestoreStatus federationRestoreStatus = 1;
+  for (int i = 0; i < this->federationrestorestatus_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->federationrestorestatus(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationRestoreStatusResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .ohla.rti.messages.proto.FederateRestoreStatus federationRestoreStatus = 1;
+  for (int i = 0; i < this->federationrestorestatus_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->federationrestorestatus(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationRestoreStatusResponse::ByteSize() const {
+  int total_size = 0;
+
+  // repeated .ohla.rti.messages.proto.FederateRestoreStatus federationRestoreStatus = 1;
+  total_size += 1 * this->federationrestorestatus_size();
+  for (int i = 0; i < this->federationrestorestatus_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->federationrestorestatus(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationRestoreStatusResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationRestoreStatusResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationRestoreStatusResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationRestoreStatusResponse::MergeFrom(const FederationRestoreStatusResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  federationrestorestatus_.MergeFrom(from.federationrestorestatus_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationRestoreStatusResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationRestoreStatusResponse::CopyFrom(const FederationRestoreStatusResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationRestoreStatusResponse::IsInitialized() const {
+
+  for (int i = 0; i < federationrestorestatus_size(); i++) {
+    if (!this->federationrestorestatus(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FederationRestoreStatusResponse::Swap(FederationRestoreStatusResponse* other) {
+  if (other != this) {
+    federationrestorestatus_.Swap(&other->federationrestorestatus_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationRestoreStatusResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationRestoreStatusResponse_descriptor_;
+  metadata.reflection = FederationRestoreStatusResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int StartRegistrationForObjectClass::kObjectClassHandleFieldNumber;
+#endif  // !_MSC_VER
+
+StartRegistrationForObjectClass::StartRegistrationForObjectClass()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void StartRegistrationForObjectClass::InitAsDefaultInstance() {
+}
+
+StartRegistrationForObjectClass::StartRegistrationForObjectClass(const StartRegistrationForObjectClass& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void StartRegistrationForObjectClass::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+StartRegistrationForObjectClass::~StartRegistrationForObjectClass() {
+  SharedDtor();
+}
+
+void StartRegistrationForObjectClass::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void StartRegistrationForObjectClass::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* StartRegistrationForObjectClass::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return StartRegistrationForObjectClass_descriptor_;
+}
+
+const StartRegistrationForObjectClass& StartRegistrationForObjectClass::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+StartRegistrationForObjectClass* StartRegistrationForObjectClass::default_instance_ = NULL;
+
+StartRegistrationForObjectClass* StartRegistrationForObjectClass::New() const {
+  return new StartRegistrationForObjectClass;
+}
+
+void StartRegistrationForObjectClass::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool StartRegistrationForObjectClass::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void StartRegistrationForObjectClass::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* StartRegistrationForObjectClass::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int StartRegistrationForObjectClass::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void StartRegistrationForObjectClass::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const StartRegistrationForObjectClass* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const StartRegistrationForObjectClass*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void StartRegistrationForObjectClass::MergeFrom(const StartRegistrationForObjectClass& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void StartRegistrationForObjectClass::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void StartRegistrationForObjectClass::CopyFrom(const StartRegistrationForObjectClass& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool StartRegistrationForObjectClass::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void StartRegistrationForObjectClass::Swap(StartRegistrationForObjectClass* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata StartRegistrationForObjectClass::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = StartRegistrationForObjectClass_descriptor_;
+  metadata.reflection = StartRegistrationForObjectClass_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int StopRegistrationForObjectClass::kObjectClassHandleFieldNumber;
+#endif  // !_MSC_VER
+
+StopRegistrationForObjectClass::StopRegistrationForObjectClass()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void StopRegistrationForObjectClass::InitAsDefaultInstance() {
+}
+
+StopRegistrationForObjectClass::StopRegistrationForObjectClass(const StopRegistrationForObjectClass& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void StopRegistrationForObjectClass::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+StopRegistrationForObjectClass::~StopRegistrationForObjectClass() {
+  SharedDtor();
+}
+
+void StopRegistrationForObjectClass::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void StopRegistrationForObjectClass::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* StopRegistrationForObjectClass::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return StopRegistrationForObjectClass_descriptor_;
+}
+
+const StopRegistrationForObjectClass& StopRegistrationForObjectClass::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+StopRegistrationForObjectClass* StopRegistrationForObjectClass::default_instance_ = NULL;
+
+StopRegistrationForObjectClass* StopRegistrationForObjectClass::New() const {
+  return new StopRegistrationForObjectClass;
+}
+
+void StopRegistrationForObjectClass::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool StopRegistrationForObjectClass::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void StopRegistrationForObjectClass::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* StopRegistrationForObjectClass::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int StopRegistrationForObjectClass::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void StopRegistrationForObjectClass::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const StopRegistrationForObjectClass* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const StopRegistrationForObjectClass*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void StopRegistrationForObjectClass::MergeFrom(const StopRegistrationForObjectClass& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void StopRegistrationForObjectClass::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void StopRegistrationForObjectClass::CopyFrom(const StopRegistrationForObjectClass& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool StopRegistrationForObjectClass::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void StopRegistrationForObjectClass::Swap(StopRegistrationForObjectClass* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata StopRegistrationForObjectClass::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = StopRegistrationForObjectClass_descriptor_;
+  metadata.reflection = StopRegistrationForObjectClass_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int TurnInteractionsOn::kInteractionClassHandleFieldNumber;
+#endif  // !_MSC_VER
+
+TurnInteractionsOn::TurnInteractionsOn()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void TurnInteractionsOn::InitAsDefaultInstance() {
+}
+
+TurnInteractionsOn::TurnInteractionsOn(const TurnInteractionsOn& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void TurnInteractionsOn::SharedCtor() {
+  _cached_size_ = 0;
+  interactionclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+TurnInteractionsOn::~TurnInteractionsOn() {
+  SharedDtor();
+}
+
+void TurnInteractionsOn::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void TurnInteractionsOn::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* TurnInteractionsOn::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return TurnInteractionsOn_descriptor_;
+}
+
+const TurnInteractionsOn& TurnInteractionsOn::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+TurnInteractionsOn* TurnInteractionsOn::default_instance_ = NULL;
+
+TurnInteractionsOn* TurnInteractionsOn::New() const {
+  return new TurnInteractionsOn;
+}
+
+void TurnInteractionsOn::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    interactionclasshandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool TurnInteractionsOn::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 interactionClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &interactionclasshandle_)));
+          set_has_interactionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void TurnInteractionsOn::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->interactionclasshandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* TurnInteractionsOn::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->interactionclasshandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int TurnInteractionsOn::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 interactionClassHandle = 1;
+    if (has_interactionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->interactionclasshandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void TurnInteractionsOn::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const TurnInteractionsOn* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const TurnInteractionsOn*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void TurnInteractionsOn::MergeFrom(const TurnInteractionsOn& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_interactionclasshandle()) {
+      set_interactionclasshandle(from.interactionclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void TurnInteractionsOn::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void TurnInteractionsOn::CopyFrom(const TurnInteractionsOn& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool TurnInteractionsOn::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void TurnInteractionsOn::Swap(TurnInteractionsOn* other) {
+  if (other != this) {
+    std::swap(interactionclasshandle_, other->interactionclasshandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata TurnInteractionsOn::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = TurnInteractionsOn_descriptor_;
+  metadata.reflection = TurnInteractionsOn_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int TurnInteractionsOff::kInteractionClassHandleFieldNumber;
+#endif  // !_MSC_VER
+
+TurnInteractionsOff::TurnInteractionsOff()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void TurnInteractionsOff::InitAsDefaultInstance() {
+}
+
+TurnInteractionsOff::TurnInteractionsOff(const TurnInteractionsOff& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void TurnInteractionsOff::SharedCtor() {
+  _cached_size_ = 0;
+  interactionclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+TurnInteractionsOff::~TurnInteractionsOff() {
+  SharedDtor();
+}
+
+void TurnInteractionsOff::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void TurnInteractionsOff::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* TurnInteractionsOff::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return TurnInteractionsOff_descriptor_;
+}
+
+const TurnInteractionsOff& TurnInteractionsOff::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+TurnInteractionsOff* TurnInteractionsOff::default_instance_ = NULL;
+
+TurnInteractionsOff* TurnInteractionsOff::New() const {
+  return new TurnInteractionsOff;
+}
+
+void TurnInteractionsOff::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    interactionclasshandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool TurnInteractionsOff::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 interactionClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &interactionclasshandle_)));
+          set_has_interactionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void TurnInteractionsOff::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->interactionclasshandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* TurnInteractionsOff::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->interactionclasshandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int TurnInteractionsOff::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 interactionClassHandle = 1;
+    if (has_interactionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->interactionclasshandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void TurnInteractionsOff::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const TurnInteractionsOff* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const TurnInteractionsOff*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void TurnInteractionsOff::MergeFrom(const TurnInteractionsOff& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_interactionclasshandle()) {
+      set_interactionclasshandle(from.interactionclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void TurnInteractionsOff::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void TurnInteractionsOff::CopyFrom(const TurnInteractionsOff& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool TurnInteractionsOff::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void TurnInteractionsOff::Swap(TurnInteractionsOff* other) {
+  if (other != this) {
+    std::swap(interactionclasshandle_, other->interactionclasshandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata TurnInteractionsOff::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = TurnInteractionsOff_descriptor_;
+  metadata.reflection = TurnInteractionsOff_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int DiscoverObjectInstance::kObjectInstanceHandleFieldNumber;
+const int DiscoverObjectInstance::kObjectClassHandleFieldNumber;
+const int DiscoverObjectInstance::kObjectInstanceNameFieldNumber;
+const int DiscoverObjectInstance::kProducingFederateHandleFieldNumber;
+#endif  // !_MSC_VER
+
+DiscoverObjectInstance::DiscoverObjectInstance()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void DiscoverObjectInstance::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+DiscoverObjectInstance::DiscoverObjectInstance(const DiscoverObjectInstance& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void DiscoverObjectInstance::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  objectclasshandle_ = 0u;
+  objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  producingfederatehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+DiscoverObjectInstance::~DiscoverObjectInstance() {
+  SharedDtor();
+}
+
+void DiscoverObjectInstance::SharedDtor() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void DiscoverObjectInstance::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* DiscoverObjectInstance::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return DiscoverObjectInstance_descriptor_;
+}
+
+const DiscoverObjectInstance& DiscoverObjectInstance::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+DiscoverObjectInstance* DiscoverObjectInstance::default_instance_ = NULL;
+
+DiscoverObjectInstance* DiscoverObjectInstance::New() const {
+  return new DiscoverObjectInstance;
+}
+
+void DiscoverObjectInstance::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    objectclasshandle_ = 0u;
+    if (has_objectinstancename()) {
+      if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+        objectinstancename_->clear();
+      }
+    }
+    producingfederatehandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool DiscoverObjectInstance::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_objectClassHandle;
+        break;
+      }
+
+      // required uint32 objectClassHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_objectClassHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_objectInstanceName;
+        break;
+      }
+
+      // required string objectInstanceName = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_objectinstancename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancename().data(), this->objectinstancename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_producingFederateHandle;
+        break;
+      }
+
+      // required uint32 producingFederateHandle = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_producingFederateHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &producingfederatehandle_)));
+          set_has_producingfederatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void DiscoverObjectInstance::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // required uint32 objectClassHandle = 2;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->objectclasshandle(), output);
+  }
+
+  // required string objectInstanceName = 3;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      3, this->objectinstancename(), output);
+  }
+
+  // required uint32 producingFederateHandle = 4;
+  if (has_producingfederatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(4, this->producingfederatehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* DiscoverObjectInstance::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // required uint32 objectClassHandle = 2;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->objectclasshandle(), target);
+  }
+
+  // required string objectInstanceName = 3;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        3, this->objectinstancename(), target);
+  }
+
+  // required uint32 producingFederateHandle = 4;
+  if (has_producingfederatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(4, this->producingfederatehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int DiscoverObjectInstance::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // required uint32 objectClassHandle = 2;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+    // required string objectInstanceName = 3;
+    if (has_objectinstancename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->objectinstancename());
+    }
+
+    // required uint32 producingFederateHandle = 4;
+    if (has_producingfederatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->producingfederatehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void DiscoverObjectInstance::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const DiscoverObjectInstance* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const DiscoverObjectInstance*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void DiscoverObjectInstance::MergeFrom(const DiscoverObjectInstance& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+    if (from.has_objectinstancename()) {
+      set_objectinstancename(from.objectinstancename());
+    }
+    if (from.has_producingfederatehandle()) {
+      set_producingfederatehandle(from.producingfederatehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void DiscoverObjectInstance::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void DiscoverObjectInstance::CopyFrom(const DiscoverObjectInstance& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool DiscoverObjectInstance::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000000f) != 0x0000000f) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void DiscoverObjectInstance::Swap(DiscoverObjectInstance* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    std::swap(objectinstancename_, other->objectinstancename_);
+    std::swap(producingfederatehandle_, other->producingfederatehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata DiscoverObjectInstance::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = DiscoverObjectInstance_descriptor_;
+  metadata.reflection = DiscoverObjectInstance_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int Region::kDimensionRangeBoundsFieldNumber;
+#endif  // !_MSC_VER
+
+Region::Region()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void Region::InitAsDefaultInstance() {
+}
+
+Region::Region(const Region& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void Region::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+Region::~Region() {
+  SharedDtor();
+}
+
+void Region::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void Region::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* Region::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return Region_descriptor_;
+}
+
+const Region& Region::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+Region* Region::default_instance_ = NULL;
+
+Region* Region::New() const {
+  return new Region;
+}
+
+void Region::Clear() {
+  dimensionrangebounds_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool Region::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .ohla.rti.proto.DimensionRangeBound dimensionRangeBounds = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_dimensionRangeBounds:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_dimensionrangebounds()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_dimensionRangeBounds;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void Region::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .ohla.rti.proto.DimensionRangeBound dimensionRangeBounds = 1;
+  for (int i = 0; i < this->dimensionrangebounds_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->dimensionrangebounds(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* Region::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .ohla.rti.proto.DimensionRangeBound dimensionRangeBounds = 1;
+  for (int i = 0; i < this->dimensionrangebounds_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->dimensionrangebounds(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int Region::ByteSize() const {
+  int total_size = 0;
+
+  // repeated .ohla.rti.proto.DimensionRangeBound dimensionRangeBounds = 1;
+  total_size += 1 * this->dimensionrangebounds_size();
+  for (int i = 0; i < this->dimensionrangebounds_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->dimensionrangebounds(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void Region::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const Region* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const Region*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void Region::MergeFrom(const Region& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  dimensionrangebounds_.MergeFrom(from.dimensionrangebounds_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void Region::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void Region::CopyFrom(const Region& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool Region::IsInitialized() const {
+
+  for (int i = 0; i < dimensionrangebounds_size(); i++) {
+    if (!this->dimensionrangebounds(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void Region::Swap(Region* other) {
+  if (other != this) {
+    dimensionrangebounds_.Swap(&other->dimensionrangebounds_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata Region::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = Region_descriptor_;
+  metadata.reflection = Region_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ReflectAttributeValues::kObjectInstanceHandleFieldNumber;
+const int ReflectAttributeValues::kAttributeValuesFieldNumber;
+const int ReflectAttributeValues::kTagFieldNumber;
+const int ReflectAttributeValues::kSentOrderTypeFieldNumber;
+const int ReflectAttributeValues::kReceivedOrderTypeFieldNumber;
+const int ReflectAttributeValues::kTransportationTypeHandleFieldNumber;
+const int ReflectAttributeValues::kTimeFieldNumber;
+const int ReflectAttributeValues::kMessageRetractionHandleFieldNumber;
+const int ReflectAttributeValues::kProducingFederateHandleFieldNumber;
+const int ReflectAttributeValues::kRegionsFieldNumber;
+#endif  // !_MSC_VER
+
+ReflectAttributeValues::ReflectAttributeValues()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ReflectAttributeValues::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+  messageretractionhandle_ = const_cast< ::ohla::rti::proto::MessageRetractionHandle*>(&::ohla::rti::proto::MessageRetractionHandle::default_instance());
+}
+
+ReflectAttributeValues::ReflectAttributeValues(const ReflectAttributeValues& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ReflectAttributeValues::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  sentordertype_ = 1;
+  receivedordertype_ = 1;
+  transportationtypehandle_ = 0u;
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  messageretractionhandle_ = NULL;
+  producingfederatehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ReflectAttributeValues::~ReflectAttributeValues() {
+  SharedDtor();
+}
+
+void ReflectAttributeValues::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+    delete messageretractionhandle_;
+  }
+}
+
+void ReflectAttributeValues::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ReflectAttributeValues::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ReflectAttributeValues_descriptor_;
+}
+
+const ReflectAttributeValues& ReflectAttributeValues::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ReflectAttributeValues* ReflectAttributeValues::default_instance_ = NULL;
+
+ReflectAttributeValues* ReflectAttributeValues::New() const {
+  return new ReflectAttributeValues;
+}
+
+void ReflectAttributeValues::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+    sentordertype_ = 1;
+    receivedordertype_ = 1;
+    transportationtypehandle_ = 0u;
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+    if (has_messageretractionhandle()) {
+      if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+    }
+  }
+  if (_has_bits_[8 / 32] & (0xffu << (8 % 32))) {
+    producingfederatehandle_ = 0u;
+  }
+  attributevalues_.Clear();
+  regions_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ReflectAttributeValues::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_attributeValues;
+        break;
+      }
+
+      // repeated .ohla.rti.messages.proto.AttributeValue attributeValues = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_attributeValues:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_attributevalues()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_attributeValues;
+        if (input->ExpectTag(26)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_sentOrderType;
+        break;
+      }
+
+      // required .ohla.rti.proto.OrderType sentOrderType = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_sentOrderType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::OrderType_IsValid(value)) {
+            set_sentordertype(static_cast< ::ohla::rti::proto::OrderType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(4, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(40)) goto parse_receivedOrderType;
+        break;
+      }
+
+      // required .ohla.rti.proto.OrderType receivedOrderType = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_receivedOrderType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::OrderType_IsValid(value)) {
+            set_receivedordertype(static_cast< ::ohla::rti::proto::OrderType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(5, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(48)) goto parse_transportationTypeHandle;
+        break;
+      }
+
+      // required uint32 transportationTypeHandle = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_transportationTypeHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &transportationtypehandle_)));
+          set_has_transportationtypehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(58)) goto parse_time;
+        break;
+      }
+
+      // optional bytes time = 7;
+      case 7: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_time:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(66)) goto parse_messageRetractionHandle;
+        break;
+      }
+
+      // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 8;
+      case 8: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_messageRetractionHandle:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_messageretractionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(72)) goto parse_producingFederateHandle;
+        break;
+      }
+
+      // required uint32 producingFederateHandle = 9;
+      case 9: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_producingFederateHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &producingfederatehandle_)));
+          set_has_producingfederatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(82)) goto parse_regions;
+        break;
+      }
+
+      // repeated .ohla.rti.messages.proto.Region regions = 10;
+      case 10: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_regions:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_regions()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(82)) goto parse_regions;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ReflectAttributeValues::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeValue attributeValues = 2;
+  for (int i = 0; i < this->attributevalues_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->attributevalues(i), output);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->tag(), output);
+  }
+
+  // required .ohla.rti.proto.OrderType sentOrderType = 4;
+  if (has_sentordertype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      4, this->sentordertype(), output);
+  }
+
+  // required .ohla.rti.proto.OrderType receivedOrderType = 5;
+  if (has_receivedordertype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      5, this->receivedordertype(), output);
+  }
+
+  // required uint32 transportationTypeHandle = 6;
+  if (has_transportationtypehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(6, this->transportationtypehandle(), output);
+  }
+
+  // optional bytes time = 7;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      7, this->time(), output);
+  }
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 8;
+  if (has_messageretractionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      8, this->messageretractionhandle(), output);
+  }
+
+  // required uint32 producingFederateHandle = 9;
+  if (has_producingfederatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(9, this->producingfederatehandle(), output);
+  }
+
+  // repeated .ohla.rti.messages.proto.Region regions = 10;
+  for (int i = 0; i < this->regions_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      10, this->regions(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ReflectAttributeValues::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeValue attributeValues = 2;
+  for (int i = 0; i < this->attributevalues_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->attributevalues(i), target);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->tag(), target);
+  }
+
+  // required .ohla.rti.proto.OrderType sentOrderType = 4;
+  if (has_sentordertype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      4, this->sentordertype(), target);
+  }
+
+  // required .ohla.rti.proto.OrderType receivedOrderType = 5;
+  if (has_receivedordertype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      5, this->receivedordertype(), target);
+  }
+
+  // required uint32 transportationTypeHandle = 6;
+  if (has_transportationtypehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(6, this->transportationtypehandle(), target);
+  }
+
+  // optional bytes time = 7;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        7, this->time(), target);
+  }
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 8;
+  if (has_messageretractionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        8, this->messageretractionhandle(), target);
+  }
+
+  // required uint32 producingFederateHandle = 9;
+  if (has_producingfederatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(9, this->producingfederatehandle(), target);
+  }
+
+  // repeated .ohla.rti.messages.proto.Region regions = 10;
+  for (int i = 0; i < this->regions_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        10, this->regions(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ReflectAttributeValues::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // optional bytes tag = 3;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+    // required .ohla.rti.proto.OrderType sentOrderType = 4;
+    if (has_sentordertype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->sentordertype());
+    }
+
+    // required .ohla.rti.proto.OrderType receivedOrderType = 5;
+    if (has_receivedordertype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->receivedordertype());
+    }
+
+    // required uint32 transportationTypeHandle = 6;
+    if (has_transportationtypehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->transportationtypehandle());
+    }
+
+    // optional bytes time = 7;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+    // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 8;
+    if (has_messageretractionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->messageretractionhandle());
+    }
+
+  }
+  if (_has_bits_[8 / 32] & (0xffu << (8 % 32))) {
+    // required uint32 producingFederateHandle = 9;
+    if (has_producingfederatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->producingfederatehandle());
+    }
+
+  }
+  // repeated .ohla.rti.messages.proto.AttributeValue attributeValues = 2;
+  total_size += 1 * this->attributevalues_size();
+  for (int i = 0; i < this->attributevalues_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->attributevalues(i));
+  }
+
+  // repeated .ohla.rti.messages.proto.Region regions = 10;
+  total_size += 1 * this->regions_size();
+  for (int i = 0; i < this->regions_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->regions(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ReflectAttributeValues::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ReflectAttributeValues* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ReflectAttributeValues*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ReflectAttributeValues::MergeFrom(const ReflectAttributeValues& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributevalues_.MergeFrom(from.attributevalues_);
+  regions_.MergeFrom(from.regions_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+    if (from.has_sentordertype()) {
+      set_sentordertype(from.sentordertype());
+    }
+    if (from.has_receivedordertype()) {
+      set_receivedordertype(from.receivedordertype());
+    }
+    if (from.has_transportationtypehandle()) {
+      set_transportationtypehandle(from.transportationtypehandle());
+    }
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+    if (from.has_messageretractionhandle()) {
+      mutable_messageretractionhandle()->::ohla::rti::proto::MessageRetractionHandle::MergeFrom(from.messageretractionhandle());
+    }
+  }
+  if (from._has_bits_[8 / 32] & (0xffu << (8 % 32))) {
+    if (from.has_producingfederatehandle()) {
+      set_producingfederatehandle(from.producingfederatehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ReflectAttributeValues::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ReflectAttributeValues::CopyFrom(const ReflectAttributeValues& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ReflectAttributeValues::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000139) != 0x00000139) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < attributevalues_size(); i++) {
+    if (!this->attributevalues(i).IsInitialized()) return false;
+  }
+  if (has_messageretractionhandle()) {
+    if (!this->messageretractionhandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < regions_size(); i++) {
+    if (!this->regions(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void ReflectAttributeValues::Swap(ReflectAttributeValues* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributevalues_.Swap(&other->attributevalues_);
+    std::swap(tag_, other->tag_);
+    std::swap(sentordertype_, other->sentordertype_);
+    std::swap(receivedordertype_, other->receivedordertype_);
+    std::swap(transportationtypehandle_, other->transportationtypehandle_);
+    std::swap(time_, other->time_);
+    std::swap(messageretractionhandle_, other->messageretractionhandle_);
+    std::swap(producingfederatehandle_, other->producingfederatehandle_);
+    regions_.Swap(&other->regions_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ReflectAttributeValues::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ReflectAttributeValues_descriptor_;
+  metadata.reflection = ReflectAttributeValues_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RemoveObjectInstance::kObjectInstanceHandleFieldNumber;
+const int RemoveObjectInstance::kTagFieldNumber;
+const int RemoveObjectInstance::kSentOrderTypeFieldNumber;
+const int RemoveObjectInstance::kReceivedOrderTypeFieldNumber;
+const int RemoveObjectInstance::kTimeFieldNumber;
+const int RemoveObjectInstance::kMessageRetractionHandleFieldNumber;
+const int RemoveObjectInstance::kProducingFederateHandleFieldNumber;
+#endif  // !_MSC_VER
+
+RemoveObjectInstance::RemoveObjectInstance()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RemoveObjectInstance::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+  messageretractionhandle_ = const_cast< ::ohla::rti::proto::MessageRetractionHandle*>(&::ohla::rti::proto::MessageRetractionHandle::default_instance());
+}
+
+RemoveObjectInstance::RemoveObjectInstance(const RemoveObjectInstance& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RemoveObjectInstance::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  sentordertype_ = 1;
+  receivedordertype_ = 1;
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  messageretractionhandle_ = NULL;
+  producingfederatehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RemoveObjectInstance::~RemoveObjectInstance() {
+  SharedDtor();
+}
+
+void RemoveObjectInstance::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+    delete messageretractionhandle_;
+  }
+}
+
+void RemoveObjectInstance::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RemoveObjectInstance::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RemoveObjectInstance_descriptor_;
+}
+
+const RemoveObjectInstance& RemoveObjectInstance::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RemoveObjectInstance* RemoveObjectInstance::default_instance_ = NULL;
+
+RemoveObjectInstance* RemoveObjectInstance::New() const {
+  return new RemoveObjectInstance;
+}
+
+void RemoveObjectInstance::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+    sentordertype_ = 1;
+    receivedordertype_ = 1;
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+    if (has_messageretractionhandle()) {
+      if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+    }
+    producingfederatehandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RemoveObjectInstance::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_sentOrderType;
+        break;
+      }
+
+      // required .ohla.rti.proto.OrderType sentOrderType = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_sentOrderType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::OrderType_IsValid(value)) {
+            set_sentordertype(static_cast< ::ohla::rti::proto::OrderType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(3, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_receivedOrderType;
+        break;
+      }
+
+      // required .ohla.rti.proto.OrderType receivedOrderType = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_receivedOrderType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::OrderType_IsValid(value)) {
+            set_receivedordertype(static_cast< ::ohla::rti::proto::OrderType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(4, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(42)) goto parse_time;
+        break;
+      }
+
+      // optional bytes time = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_time:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(50)) goto parse_messageRetractionHandle;
+        break;
+      }
+
+      // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_messageRetractionHandle:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_messageretractionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(56)) goto parse_producingFederateHandle;
+        break;
+      }
+
+      // required uint32 producingFederateHandle = 7;
+      case 7: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_producingFederateHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &producingfederatehandle_)));
+          set_has_producingfederatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RemoveObjectInstance::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // optional bytes tag = 2;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      2, this->tag(), output);
+  }
+
+  // required .ohla.rti.proto.OrderType sentOrderType = 3;
+  if (has_sentordertype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      3, this->sentordertype(), output);
+  }
+
+  // required .ohla.rti.proto.OrderType receivedOrderType = 4;
+  if (has_receivedordertype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      4, this->receivedordertype(), output);
+  }
+
+  // optional bytes time = 5;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      5, this->time(), output);
+  }
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 6;
+  if (has_messageretractionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      6, this->messageretractionhandle(), output);
+  }
+
+  // required uint32 producingFederateHandle = 7;
+  if (has_producingfederatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(7, this->producingfederatehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RemoveObjectInstance::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // optional bytes tag = 2;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        2, this->tag(), target);
+  }
+
+  // required .ohla.rti.proto.OrderType sentOrderType = 3;
+  if (has_sentordertype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      3, this->sentordertype(), target);
+  }
+
+  // required .ohla.rti.proto.OrderType receivedOrderType = 4;
+  if (has_receivedordertype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      4, this->receivedordertype(), target);
+  }
+
+  // optional bytes time = 5;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        5, this->time(), target);
+  }
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 6;
+  if (has_messageretractionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        6, this->messageretractionhandle(), target);
+  }
+
+  // required uint32 producingFederateHandle = 7;
+  if (has_producingfederatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(7, this->producingfederatehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RemoveObjectInstance::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // optional bytes tag = 2;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+    // required .ohla.rti.proto.OrderType sentOrderType = 3;
+    if (has_sentordertype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->sentordertype());
+    }
+
+    // required .ohla.rti.proto.OrderType receivedOrderType = 4;
+    if (has_receivedordertype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->receivedordertype());
+    }
+
+    // optional bytes time = 5;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+    // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 6;
+    if (has_messageretractionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->messageretractionhandle());
+    }
+
+    // required uint32 producingFederateHandle = 7;
+    if (has_producingfederatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->producingfederatehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RemoveObjectInstance::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RemoveObjectInstance* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RemoveObjectInstance*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RemoveObjectInstance::MergeFrom(const RemoveObjectInstance& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+    if (from.has_sentordertype()) {
+      set_sentordertype(from.sentordertype());
+    }
+    if (from.has_receivedordertype()) {
+      set_receivedordertype(from.receivedordertype());
+    }
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+    if (from.has_messageretractionhandle()) {
+      mutable_messageretractionhandle()->::ohla::rti::proto::MessageRetractionHandle::MergeFrom(from.messageretractionhandle());
+    }
+    if (from.has_producingfederatehandle()) {
+      set_producingfederatehandle(from.producingfederatehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RemoveObjectInstance::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RemoveObjectInstance::CopyFrom(const RemoveObjectInstance& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RemoveObjectInstance::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000004d) != 0x0000004d) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  if (has_messageretractionhandle()) {
+    if (!this->messageretractionhandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void RemoveObjectInstance::Swap(RemoveObjectInstance* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(tag_, other->tag_);
+    std::swap(sentordertype_, other->sentordertype_);
+    std::swap(receivedordertype_, other->receivedordertype_);
+    std::swap(time_, other->time_);
+    std::swap(messageretractionhandle_, other->messageretractionhandle_);
+    std::swap(producingfederatehandle_, other->producingfederatehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RemoveObjectInstance::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RemoveObjectInstance_descriptor_;
+  metadata.reflection = RemoveObjectInstance_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AttributesInScope::kObjectInstanceHandleFieldNumber;
+const int AttributesInScope::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+AttributesInScope::AttributesInScope()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AttributesInScope::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+AttributesInScope::AttributesInScope(const AttributesInScope& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AttributesInScope::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AttributesInScope::~AttributesInScope() {
+  SharedDtor();
+}
+
+void AttributesInScope::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void AttributesInScope::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AttributesInScope::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AttributesInScope_descriptor_;
+}
+
+const AttributesInScope& AttributesInScope::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AttributesInScope* AttributesInScope::default_instance_ = NULL;
+
+AttributesInScope* AttributesInScope::New() const {
+  return new AttributesInScope;
+}
+
+void AttributesInScope::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AttributesInScope::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AttributesInScope::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AttributesInScope::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AttributesInScope::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AttributesInScope::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AttributesInScope* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AttributesInScope*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AttributesInScope::MergeFrom(const AttributesInScope& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AttributesInScope::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AttributesInScope::CopyFrom(const AttributesInScope& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AttributesInScope::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AttributesInScope::Swap(AttributesInScope* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AttributesInScope::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AttributesInScope_descriptor_;
+  metadata.reflection = AttributesInScope_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AttributesOutOfScope::kObjectInstanceHandleFieldNumber;
+const int AttributesOutOfScope::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+AttributesOutOfScope::AttributesOutOfScope()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AttributesOutOfScope::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+AttributesOutOfScope::AttributesOutOfScope(const AttributesOutOfScope& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AttributesOutOfScope::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AttributesOutOfScope::~AttributesOutOfScope() {
+  SharedDtor();
+}
+
+void AttributesOutOfScope::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void AttributesOutOfScope::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AttributesOutOfScope::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AttributesOutOfScope_descriptor_;
+}
+
+const AttributesOutOfScope& AttributesOutOfScope::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AttributesOutOfScope* AttributesOutOfScope::default_instance_ = NULL;
+
+AttributesOutOfScope* AttributesOutOfScope::New() const {
+  return new AttributesOutOfScope;
+}
+
+void AttributesOutOfScope::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AttributesOutOfScope::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AttributesOutOfScope::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AttributesOutOfScope::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AttributesOutOfScope::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AttributesOutOfScope::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AttributesOutOfScope* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AttributesOutOfScope*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AttributesOutOfScope::MergeFrom(const AttributesOutOfScope& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AttributesOutOfScope::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AttributesOutOfScope::CopyFrom(const AttributesOutOfScope& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AttributesOutOfScope::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AttributesOutOfScope::Swap(AttributesOutOfScope* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AttributesOutOfScope::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AttributesOutOfScope_descriptor_;
+  metadata.reflection = AttributesOutOfScope_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ProvideAttributeValueUpdate::kObjectInstanceHandleFieldNumber;
+const int ProvideAttributeValueUpdate::kAttributeHandlesFieldNumber;
+const int ProvideAttributeValueUpdate::kTagFieldNumber;
+#endif  // !_MSC_VER
+
+ProvideAttributeValueUpdate::ProvideAttributeValueUpdate()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ProvideAttributeValueUpdate::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+ProvideAttributeValueUpdate::ProvideAttributeValueUpdate(const ProvideAttributeValueUpdate& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ProvideAttributeValueUpdate::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ProvideAttributeValueUpdate::~ProvideAttributeValueUpdate() {
+  SharedDtor();
+}
+
+void ProvideAttributeValueUpdate::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void ProvideAttributeValueUpdate::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ProvideAttributeValueUpdate::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ProvideAttributeValueUpdate_descriptor_;
+}
+
+const ProvideAttributeValueUpdate& ProvideAttributeValueUpdate::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ProvideAttributeValueUpdate* ProvideAttributeValueUpdate::default_instance_ = NULL;
+
+ProvideAttributeValueUpdate* ProvideAttributeValueUpdate::New() const {
+  return new ProvideAttributeValueUpdate;
+}
+
+void ProvideAttributeValueUpdate::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ProvideAttributeValueUpdate::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectTag(26)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ProvideAttributeValueUpdate::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->tag(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ProvideAttributeValueUpdate::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->tag(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ProvideAttributeValueUpdate::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // optional bytes tag = 3;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ProvideAttributeValueUpdate::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ProvideAttributeValueUpdate* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ProvideAttributeValueUpdate*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ProvideAttributeValueUpdate::MergeFrom(const ProvideAttributeValueUpdate& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ProvideAttributeValueUpdate::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ProvideAttributeValueUpdate::CopyFrom(const ProvideAttributeValueUpdate& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ProvideAttributeValueUpdate::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void ProvideAttributeValueUpdate::Swap(ProvideAttributeValueUpdate* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(tag_, other->tag_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ProvideAttributeValueUpdate::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ProvideAttributeValueUpdate_descriptor_;
+  metadata.reflection = ProvideAttributeValueUpdate_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int TurnUpdatesOnForObjectInstance::kObjectInstanceHandleFieldNumber;
+const int TurnUpdatesOnForObjectInstance::kAttributeHandlesFieldNumber;
+const int TurnUpdatesOnForObjectInstance::kUpdateRateDesignatorFieldNumber;
+#endif  // !_MSC_VER
+
+TurnUpdatesOnForObjectInstance::TurnUpdatesOnForObjectInstance()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void TurnUpdatesOnForObjectInstance::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+TurnUpdatesOnForObjectInstance::TurnUpdatesOnForObjectInstance(const TurnUpdatesOnForObjectInstance& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void TurnUpdatesOnForObjectInstance::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  updateratedesignator_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+TurnUpdatesOnForObjectInstance::~TurnUpdatesOnForObjectInstance() {
+  SharedDtor();
+}
+
+void TurnUpdatesOnForObjectInstance::SharedDtor() {
+  if (updateratedesignator_ != &::google::protobuf::internal::kEmptyString) {
+    delete updateratedesignator_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void TurnUpdatesOnForObjectInstance::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* TurnUpdatesOnForObjectInstance::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return TurnUpdatesOnForObjectInstance_descriptor_;
+}
+
+const TurnUpdatesOnForObjectInstance& TurnUpdatesOnForObjectInstance::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+TurnUpdatesOnForObjectInstance* TurnUpdatesOnForObjectInstance::default_instance_ = NULL;
+
+TurnUpdatesOnForObjectInstance* TurnUpdatesOnForObjectInstance::New() const {
+  return new TurnUpdatesOnForObjectInstance;
+}
+
+void TurnUpdatesOnForObjectInstance::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    if (has_updateratedesignator()) {
+      if (updateratedesignator_ != &::google::protobuf::internal::kEmptyString) {
+        updateratedesignator_->clear();
+      }
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool TurnUpdatesOnForObjectInstance::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectTag(26)) goto parse_updateRateDesignator;
+        break;
+      }
+
+      // required string updateRateDesignator = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_updateRateDesignator:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_updateratedesignator()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->updateratedesignator().data(), this->updateratedesignator().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void TurnUpdatesOnForObjectInstance::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  // required string updateRateDesignator = 3;
+  if (has_updateratedesignator()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->updateratedesignator().data(), this->updateratedesignator().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      3, this->updateratedesignator(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* TurnUpdatesOnForObjectInstance::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  // required string updateRateDesignator = 3;
+  if (has_updateratedesignator()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->updateratedesignator().data(), this->updateratedesignator().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        3, this->updateratedesignator(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int TurnUpdatesOnForObjectInstance::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // required string updateRateDesignator = 3;
+    if (has_updateratedesignator()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->updateratedesignator());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void TurnUpdatesOnForObjectInstance::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const TurnUpdatesOnForObjectInstance* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const TurnUpdatesOnForObjectInstance*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void TurnUpdatesOnForObjectInstance::MergeFrom(const TurnUpdatesOnForObjectInstance& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_updateratedesignator()) {
+      set_updateratedesignator(from.updateratedesignator());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void TurnUpdatesOnForObjectInstance::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void TurnUpdatesOnForObjectInstance::CopyFrom(const TurnUpdatesOnForObjectInstance& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool TurnUpdatesOnForObjectInstance::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000005) != 0x00000005) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void TurnUpdatesOnForObjectInstance::Swap(TurnUpdatesOnForObjectInstance* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(updateratedesignator_, other->updateratedesignator_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata TurnUpdatesOnForObjectInstance::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = TurnUpdatesOnForObjectInstance_descriptor_;
+  metadata.reflection = TurnUpdatesOnForObjectInstance_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int TurnUpdatesOffForObjectInstance::kObjectInstanceHandleFieldNumber;
+const int TurnUpdatesOffForObjectInstance::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+TurnUpdatesOffForObjectInstance::TurnUpdatesOffForObjectInstance()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void TurnUpdatesOffForObjectInstance::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+TurnUpdatesOffForObjectInstance::TurnUpdatesOffForObjectInstance(const TurnUpdatesOffForObjectInstance& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void TurnUpdatesOffForObjectInstance::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+TurnUpdatesOffForObjectInstance::~TurnUpdatesOffForObjectInstance() {
+  SharedDtor();
+}
+
+void TurnUpdatesOffForObjectInstance::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void TurnUpdatesOffForObjectInstance::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* TurnUpdatesOffForObjectInstance::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return TurnUpdatesOffForObjectInstance_descriptor_;
+}
+
+const TurnUpdatesOffForObjectInstance& TurnUpdatesOffForObjectInstance::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+TurnUpdatesOffForObjectInstance* TurnUpdatesOffForObjectInstance::default_instance_ = NULL;
+
+TurnUpdatesOffForObjectInstance* TurnUpdatesOffForObjectInstance::New() const {
+  return new TurnUpdatesOffForObjectInstance;
+}
+
+void TurnUpdatesOffForObjectInstance::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool TurnUpdatesOffForObjectInstance::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void TurnUpdatesOffForObjectInstance::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* TurnUpdatesOffForObjectInstance::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int TurnUpdatesOffForObjectInstance::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void TurnUpdatesOffForObjectInstance::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const TurnUpdatesOffForObjectInstance* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const TurnUpdatesOffForObjectInstance*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void TurnUpdatesOffForObjectInstance::MergeFrom(const TurnUpdatesOffForObjectInstance& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void TurnUpdatesOffForObjectInstance::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void TurnUpdatesOffForObjectInstance::CopyFrom(const TurnUpdatesOffForObjectInstance& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool TurnUpdatesOffForObjectInstance::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void TurnUpdatesOffForObjectInstance::Swap(TurnUpdatesOffForObjectInstance* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata TurnUpdatesOffForObjectInstance::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = TurnUpdatesOffForObjectInstance_descriptor_;
+  metadata.reflection = TurnUpdatesOffForObjectInstance_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ReceiveInteraction::kInteractionClassHandleFieldNumber;
+const int ReceiveInteraction::kParameterValuesFieldNumber;
+const int ReceiveInteraction::kTagFieldNumber;
+const int ReceiveInteraction::kSentOrderTypeFieldNumber;
+const int ReceiveInteraction::kReceivedOrderTypeFieldNumber;
+const int ReceiveInteraction::kTransportationTypeHandleFieldNumber;
+const int ReceiveInteraction::kTimeFieldNumber;
+const int ReceiveInteraction::kMessageRetractionHandleFieldNumber;
+const int ReceiveInteraction::kProducingFederateHandleFieldNumber;
+const int ReceiveInteraction::kRegionsFieldNumber;
+#endif  // !_MSC_VER
+
+ReceiveInteraction::ReceiveInteraction()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ReceiveInteraction::InitAsDefaultInstance() {
+  messageretractionhandle_ = const_cast< ::ohla::rti::proto::MessageRetractionHandle*>(&::ohla::rti::proto::MessageRetractionHandle::default_instance());
+}
+
+ReceiveInteraction::ReceiveInteraction(const ReceiveInteraction& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ReceiveInteraction::SharedCtor() {
+  _cached_size_ = 0;
+  interactionclasshandle_ = 0u;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  sentordertype_ = 1;
+  receivedordertype_ = 1;
+  transportationtypehandle_ = 0u;
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  messageretractionhandle_ = NULL;
+  producingfederatehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ReceiveInteraction::~ReceiveInteraction() {
+  SharedDtor();
+}
+
+void ReceiveInteraction::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+    delete messageretractionhandle_;
+  }
+}
+
+void ReceiveInteraction::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ReceiveInteraction::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ReceiveInteraction_descriptor_;
+}
+
+const ReceiveInteraction& ReceiveInteraction::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ReceiveInteraction* ReceiveInteraction::default_instance_ = NULL;
+
+ReceiveInteraction* ReceiveInteraction::New() const {
+  return new ReceiveInteraction;
+}
+
+void ReceiveInteraction::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    interactionclasshandle_ = 0u;
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+    sentordertype_ = 1;
+    receivedordertype_ = 1;
+    transportationtypehandle_ = 0u;
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+    if (has_messageretractionhandle()) {
+      if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+    }
+  }
+  if (_has_bits_[8 / 32] & (0xffu << (8 % 32))) {
+    producingfederatehandle_ = 0u;
+  }
+  parametervalues_.Clear();
+  regions_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ReceiveInteraction::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 interactionClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &interactionclasshandle_)));
+          set_has_interactionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_parameterValues;
+        break;
+      }
+
+      // repeated .ohla.rti.messages.proto.ParameterValue parameterValues = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_parameterValues:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_parametervalues()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_parameterValues;
+        if (input->ExpectTag(26)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_sentOrderType;
+        break;
+      }
+
+      // required .ohla.rti.proto.OrderType sentOrderType = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_sentOrderType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::OrderType_IsValid(value)) {
+            set_sentordertype(static_cast< ::ohla::rti::proto::OrderType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(4, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(40)) goto parse_receivedOrderType;
+        break;
+      }
+
+      // required .ohla.rti.proto.OrderType receivedOrderType = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_receivedOrderType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::OrderType_IsValid(value)) {
+            set_receivedordertype(static_cast< ::ohla::rti::proto::OrderType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(5, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(48)) goto parse_transportationTypeHandle;
+        break;
+      }
+
+      // required uint32 transportationTypeHandle = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_transportationTypeHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &transportationtypehandle_)));
+          set_has_transportationtypehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(58)) goto parse_time;
+        break;
+      }
+
+      // optional bytes time = 7;
+      case 7: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_time:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(66)) goto parse_messageRetractionHandle;
+        break;
+      }
+
+      // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 8;
+      case 8: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_messageRetractionHandle:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_messageretractionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(72)) goto parse_producingFederateHandle;
+        break;
+      }
+
+      // required uint32 producingFederateHandle = 9;
+      case 9: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_producingFederateHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &producingfederatehandle_)));
+          set_has_producingfederatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(82)) goto parse_regions;
+        break;
+      }
+
+      // repeated .ohla.rti.messages.proto.Region regions = 10;
+      case 10: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_regions:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_regions()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(82)) goto parse_regions;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ReceiveInteraction::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->interactionclasshandle(), output);
+  }
+
+  // repeated .ohla.rti.messages.proto.ParameterValue parameterValues = 2;
+  for (int i = 0; i < this->parametervalues_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->parametervalues(i), output);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->tag(), output);
+  }
+
+  // required .ohla.rti.proto.OrderType sentOrderType = 4;
+  if (has_sentordertype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      4, this->sentordertype(), output);
+  }
+
+  // required .ohla.rti.proto.OrderType receivedOrderType = 5;
+  if (has_receivedordertype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      5, this->receivedordertype(), output);
+  }
+
+  // required uint32 transportationTypeHandle = 6;
+  if (has_transportationtypehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(6, this->transportationtypehandle(), output);
+  }
+
+  // optional bytes time = 7;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      7, this->time(), output);
+  }
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 8;
+  if (has_messageretractionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      8, this->messageretractionhandle(), output);
+  }
+
+  // required uint32 producingFederateHandle = 9;
+  if (has_producingfederatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(9, this->producingfederatehandle(), output);
+  }
+
+  // repeated .ohla.rti.messages.proto.Region regions = 10;
+  for (int i = 0; i < this->regions_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      10, this->regions(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ReceiveInteraction::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->interactionclasshandle(), target);
+  }
+
+  // repeated .ohla.rti.messages.proto.ParameterValue parameterValues = 2;
+  for (int i = 0; i < this->parametervalues_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->parametervalues(i), target);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->tag(), target);
+  }
+
+  // required .ohla.rti.proto.OrderType sentOrderType = 4;
+  if (has_sentordertype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      4, this->sentordertype(), target);
+  }
+
+  // required .ohla.rti.proto.OrderType receivedOrderType = 5;
+  if (has_receivedordertype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      5, this->receivedordertype(), target);
+  }
+
+  // required uint32 transportationTypeHandle = 6;
+  if (has_transportationtypehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(6, this->transportationtypehandle(), target);
+  }
+
+  // optional bytes time = 7;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        7, this->time(), target);
+  }
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 8;
+  if (has_messageretractionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        8, this->messageretractionhandle(), target);
+  }
+
+  // required uint32 producingFederateHandle = 9;
+  if (has_producingfederatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(9, this->producingfederatehandle(), target);
+  }
+
+  // repeated .ohla.rti.messages.proto.Region regions = 10;
+  for (int i = 0; i < this->regions_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        10, this->regions(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ReceiveInteraction::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 interactionClassHandle = 1;
+    if (has_interactionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->interactionclasshandle());
+    }
+
+    // optional bytes tag = 3;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+    // required .ohla.rti.proto.OrderType sentOrderType = 4;
+    if (has_sentordertype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->sentordertype());
+    }
+
+    // required .ohla.rti.proto.OrderType receivedOrderType = 5;
+    if (has_receivedordertype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->receivedordertype());
+    }
+
+    // required uint32 transportationTypeHandle = 6;
+    if (has_transportationtypehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->transportationtypehandle());
+    }
+
+    // optional bytes time = 7;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+    // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 8;
+    if (has_messageretractionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->messageretractionhandle());
+    }
+
+  }
+  if (_has_bits_[8 / 32] & (0xffu << (8 % 32))) {
+    // required uint32 producingFederateHandle = 9;
+    if (has_producingfederatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->producingfederatehandle());
+    }
+
+  }
+  // repeated .ohla.rti.messages.proto.ParameterValue parameterValues = 2;
+  total_size += 1 * this->parametervalues_size();
+  for (int i = 0; i < this->parametervalues_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->parametervalues(i));
+  }
+
+  // repeated .ohla.rti.messages.proto.Region regions = 10;
+  total_size += 1 * this->regions_size();
+  for (int i = 0; i < this->regions_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->regions(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ReceiveInteraction::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ReceiveInteraction* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ReceiveInteraction*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ReceiveInteraction::MergeFrom(const ReceiveInteraction& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  parametervalues_.MergeFrom(from.parametervalues_);
+  regions_.MergeFrom(from.regions_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_interactionclasshandle()) {
+      set_interactionclasshandle(from.interactionclasshandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+    if (from.has_sentordertype()) {
+      set_sentordertype(from.sentordertype());
+    }
+    if (from.has_receivedordertype()) {
+      set_receivedordertype(from.receivedordertype());
+    }
+    if (from.has_transportationtypehandle()) {
+      set_transportationtypehandle(from.transportationtypehandle());
+    }
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+    if (from.has_messageretractionhandle()) {
+      mutable_messageretractionhandle()->::ohla::rti::proto::MessageRetractionHandle::MergeFrom(from.messageretractionhandle());
+    }
+  }
+  if (from._has_bits_[8 / 32] & (0xffu << (8 % 32))) {
+    if (from.has_producingfederatehandle()) {
+      set_producingfederatehandle(from.producingfederatehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ReceiveInteraction::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ReceiveInteraction::CopyFrom(const ReceiveInteraction& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ReceiveInteraction::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000139) != 0x00000139) return false;
+
+  for (int i = 0; i < parametervalues_size(); i++) {
+    if (!this->parametervalues(i).IsInitialized()) return false;
+  }
+  if (has_messageretractionhandle()) {
+    if (!this->messageretractionhandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < regions_size(); i++) {
+    if (!this->regions(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void ReceiveInteraction::Swap(ReceiveInteraction* other) {
+  if (other != this) {
+    std::swap(interactionclasshandle_, other->interactionclasshandle_);
+    parametervalues_.Swap(&other->parametervalues_);
+    std::swap(tag_, other->tag_);
+    std::swap(sentordertype_, other->sentordertype_);
+    std::swap(receivedordertype_, other->receivedordertype_);
+    std::swap(transportationtypehandle_, other->transportationtypehandle_);
+    std::swap(time_, other->time_);
+    std::swap(messageretractionhandle_, other->messageretractionhandle_);
+    std::swap(producingfederatehandle_, other->producingfederatehandle_);
+    regions_.Swap(&other->regions_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ReceiveInteraction::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ReceiveInteraction_descriptor_;
+  metadata.reflection = ReceiveInteraction_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RequestAttributeOwnershipAssumption::kObjectInstanceHandleFieldNumber;
+const int RequestAttributeOwnershipAssumption::kAttributeHandlesFieldNumber;
+const int RequestAttributeOwnershipAssumption::kTagFieldNumber;
+#endif  // !_MSC_VER
+
+RequestAttributeOwnershipAssumption::RequestAttributeOwnershipAssumption()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestAttributeOwnershipAssumption::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+RequestAttributeOwnershipAssumption::RequestAttributeOwnershipAssumption(const RequestAttributeOwnershipAssumption& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestAttributeOwnershipAssumption::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestAttributeOwnershipAssumption::~RequestAttributeOwnershipAssumption() {
+  SharedDtor();
+}
+
+void RequestAttributeOwnershipAssumption::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void RequestAttributeOwnershipAssumption::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestAttributeOwnershipAssumption::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestAttributeOwnershipAssumption_descriptor_;
+}
+
+const RequestAttributeOwnershipAssumption& RequestAttributeOwnershipAssumption::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestAttributeOwnershipAssumption* RequestAttributeOwnershipAssumption::default_instance_ = NULL;
+
+RequestAttributeOwnershipAssumption* RequestAttributeOwnershipAssumption::New() const {
+  return new RequestAttributeOwnershipAssumption;
+}
+
+void RequestAttributeOwnershipAssumption::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestAttributeOwnershipAssumption::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectTag(26)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestAttributeOwnershipAssumption::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->tag(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestAttributeOwnershipAssumption::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->tag(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestAttributeOwnershipAssumption::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // optional bytes tag = 3;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestAttributeOwnershipAssumption::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestAttributeOwnershipAssumption* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestAttributeOwnershipAssumption*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestAttributeOwnershipAssumption::MergeFrom(const RequestAttributeOwnershipAssumption& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestAttributeOwnershipAssumption::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestAttributeOwnershipAssumption::CopyFrom(const RequestAttributeOwnershipAssumption& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestAttributeOwnershipAssumption::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void RequestAttributeOwnershipAssumption::Swap(RequestAttributeOwnershipAssumption* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(tag_, other->tag_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestAttributeOwnershipAssumption::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestAttributeOwnershipAssumption_descriptor_;
+  metadata.reflection = RequestAttributeOwnershipAssumption_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RequestDivestitureConfirmation::kObjectInstanceHandleFieldNumber;
+const int RequestDivestitureConfirmation::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+RequestDivestitureConfirmation::RequestDivestitureConfirmation()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestDivestitureConfirmation::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+RequestDivestitureConfirmation::RequestDivestitureConfirmation(const RequestDivestitureConfirmation& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestDivestitureConfirmation::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestDivestitureConfirmation::~RequestDivestitureConfirmation() {
+  SharedDtor();
+}
+
+void RequestDivestitureConfirmation::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void RequestDivestitureConfirmation::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestDivestitureConfirmation::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestDivestitureConfirmation_descriptor_;
+}
+
+const RequestDivestitureConfirmation& RequestDivestitureConfirmation::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestDivestitureConfirmation* RequestDivestitureConfirmation::default_instance_ = NULL;
+
+RequestDivestitureConfirmation* RequestDivestitureConfirmation::New() const {
+  return new RequestDivestitureConfirmation;
+}
+
+void RequestDivestitureConfirmation::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestDivestitureConfirmation::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestDivestitureConfirmation::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestDivestitureConfirmation::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestDivestitureConfirmation::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestDivestitureConfirmation::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestDivestitureConfirmation* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestDivestitureConfirmation*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestDivestitureConfirmation::MergeFrom(const RequestDivestitureConfirmation& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestDivestitureConfirmation::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestDivestitureConfirmation::CopyFrom(const RequestDivestitureConfirmation& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestDivestitureConfirmation::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void RequestDivestitureConfirmation::Swap(RequestDivestitureConfirmation* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestDivestitureConfirmation::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestDivestitureConfirmation_descriptor_;
+  metadata.reflection = RequestDivestitureConfirmation_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AttributeOwnershipAcquisitionNotification::kObjectInstanceHandleFieldNumber;
+const int AttributeOwnershipAcquisitionNotification::kAttributeHandlesFieldNumber;
+const int AttributeOwnershipAcquisitionNotification::kTagFieldNumber;
+#endif  // !_MSC_VER
+
+AttributeOwnershipAcquisitionNotification::AttributeOwnershipAcquisitionNotification()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AttributeOwnershipAcquisitionNotification::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+AttributeOwnershipAcquisitionNotification::AttributeOwnershipAcquisitionNotification(const AttributeOwnershipAcquisitionNotification& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AttributeOwnershipAcquisitionNotification::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AttributeOwnershipAcquisitionNotification::~AttributeOwnershipAcquisitionNotification() {
+  SharedDtor();
+}
+
+void AttributeOwnershipAcquisitionNotification::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void AttributeOwnershipAcquisitionNotification::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AttributeOwnershipAcquisitionNotification::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AttributeOwnershipAcquisitionNotification_descriptor_;
+}
+
+const AttributeOwnershipAcquisitionNotification& AttributeOwnershipAcquisitionNotification::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AttributeOwnershipAcquisitionNotification* AttributeOwnershipAcquisitionNotification::default_instance_ = NULL;
+
+AttributeOwnershipAcquisitionNotification* AttributeOwnershipAcquisitionNotification::New() const {
+  return new AttributeOwnershipAcquisitionNotification;
+}
+
+void AttributeOwnershipAcquisitionNotification::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AttributeOwnershipAcquisitionNotification::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectTag(26)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AttributeOwnershipAcquisitionNotification::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->tag(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AttributeOwnershipAcquisitionNotification::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->tag(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AttributeOwnershipAcquisitionNotification::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // optional bytes tag = 3;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AttributeOwnershipAcquisitionNotification::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AttributeOwnershipAcquisitionNotification* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AttributeOwnershipAcquisitionNotification*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AttributeOwnershipAcquisitionNotification::MergeFrom(const AttributeOwnershipAcquisitionNotification& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AttributeOwnershipAcquisitionNotification::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AttributeOwnershipAcquisitionNotification::CopyFrom(const AttributeOwnershipAcquisitionNotification& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AttributeOwnershipAcquisitionNotification::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AttributeOwnershipAcquisitionNotification::Swap(AttributeOwnershipAcquisitionNotification* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(tag_, other->tag_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AttributeOwnershipAcquisitionNotification::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AttributeOwnershipAcquisitionNotification_descriptor_;
+  metadata.reflection = AttributeOwnershipAcquisitionNotification_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AttributeOwnershipUnavailable::kObjectInstanceHandleFieldNumber;
+const int AttributeOwnershipUnavailable::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+AttributeOwnershipUnavailable::AttributeOwnershipUnavailable()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AttributeOwnershipUnavailable::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+AttributeOwnershipUnavailable::AttributeOwnershipUnavailable(const AttributeOwnershipUnavailable& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AttributeOwnershipUnavailable::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AttributeOwnershipUnavailable::~AttributeOwnershipUnavailable() {
+  SharedDtor();
+}
+
+void AttributeOwnershipUnavailable::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void AttributeOwnershipUnavailable::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AttributeOwnershipUnavailable::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AttributeOwnershipUnavailable_descriptor_;
+}
+
+const AttributeOwnershipUnavailable& AttributeOwnershipUnavailable::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AttributeOwnershipUnavailable* AttributeOwnershipUnavailable::default_instance_ = NULL;
+
+AttributeOwnershipUnavailable* AttributeOwnershipUnavailable::New() const {
+  return new AttributeOwnershipUnavailable;
+}
+
+void AttributeOwnershipUnavailable::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AttributeOwnershipUnavailable::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AttributeOwnershipUnavailable::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AttributeOwnershipUnavailable::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AttributeOwnershipUnavailable::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AttributeOwnershipUnavailable::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AttributeOwnershipUnavailable* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AttributeOwnershipUnavailable*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AttributeOwnershipUnavailable::MergeFrom(const AttributeOwnershipUnavailable& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AttributeOwnershipUnavailable::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AttributeOwnershipUnavailable::CopyFrom(const AttributeOwnershipUnavailable& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AttributeOwnershipUnavailable::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AttributeOwnershipUnavailable::Swap(AttributeOwnershipUnavailable* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AttributeOwnershipUnavailable::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AttributeOwnershipUnavailable_descriptor_;
+  metadata.reflection = AttributeOwnershipUnavailable_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RequestAttributeOwnershipRelease::kObjectInstanceHandleFieldNumber;
+const int RequestAttributeOwnershipRelease::kAttributeHandlesFieldNumber;
+const int RequestAttributeOwnershipRelease::kTagFieldNumber;
+#endif  // !_MSC_VER
+
+RequestAttributeOwnershipRelease::RequestAttributeOwnershipRelease()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestAttributeOwnershipRelease::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+RequestAttributeOwnershipRelease::RequestAttributeOwnershipRelease(const RequestAttributeOwnershipRelease& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestAttributeOwnershipRelease::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestAttributeOwnershipRelease::~RequestAttributeOwnershipRelease() {
+  SharedDtor();
+}
+
+void RequestAttributeOwnershipRelease::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void RequestAttributeOwnershipRelease::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestAttributeOwnershipRelease::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestAttributeOwnershipRelease_descriptor_;
+}
+
+const RequestAttributeOwnershipRelease& RequestAttributeOwnershipRelease::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestAttributeOwnershipRelease* RequestAttributeOwnershipRelease::default_instance_ = NULL;
+
+RequestAttributeOwnershipRelease* RequestAttributeOwnershipRelease::New() const {
+  return new RequestAttributeOwnershipRelease;
+}
+
+void RequestAttributeOwnershipRelease::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestAttributeOwnershipRelease::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectTag(26)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestAttributeOwnershipRelease::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->tag(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestAttributeOwnershipRelease::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->tag(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestAttributeOwnershipRelease::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // optional bytes tag = 3;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestAttributeOwnershipRelease::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestAttributeOwnershipRelease* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestAttributeOwnershipRelease*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestAttributeOwnershipRelease::MergeFrom(const RequestAttributeOwnershipRelease& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestAttributeOwnershipRelease::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestAttributeOwnershipRelease::CopyFrom(const RequestAttributeOwnershipRelease& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestAttributeOwnershipRelease::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void RequestAttributeOwnershipRelease::Swap(RequestAttributeOwnershipRelease* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(tag_, other->tag_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestAttributeOwnershipRelease::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestAttributeOwnershipRelease_descriptor_;
+  metadata.reflection = RequestAttributeOwnershipRelease_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ConfirmAttributeOwnershipAcquisitionCancellation::kObjectInstanceHandleFieldNumber;
+const int ConfirmAttributeOwnershipAcquisitionCancellation::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+ConfirmAttributeOwnershipAcquisitionCancellation::ConfirmAttributeOwnershipAcquisitionCancellation()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ConfirmAttributeOwnershipAcquisitionCancellation::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+ConfirmAttributeOwnershipAcquisitionCancellation::ConfirmAttributeOwnershipAcquisitionCancellation(const ConfirmAttributeOwnershipAcquisitionCancellation& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ConfirmAttributeOwnershipAcquisitionCancellation::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ConfirmAttributeOwnershipAcquisitionCancellation::~ConfirmAttributeOwnershipAcquisitionCancellation() {
+  SharedDtor();
+}
+
+void ConfirmAttributeOwnershipAcquisitionCancellation::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void ConfirmAttributeOwnershipAcquisitionCancellation::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ConfirmAttributeOwnershipAcquisitionCancellation::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ConfirmAttributeOwnershipAcquisitionCancellation_descriptor_;
+}
+
+const ConfirmAttributeOwnershipAcquisitionCancellation& ConfirmAttributeOwnershipAcquisitionCancellation::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ConfirmAttributeOwnershipAcquisitionCancellation* ConfirmAttributeOwnershipAcquisitionCancellation::default_instance_ = NULL;
+
+ConfirmAttributeOwnershipAcquisitionCancellation* ConfirmAttributeOwnershipAcquisitionCancellation::New() const {
+  return new ConfirmAttributeOwnershipAcquisitionCancellation;
+}
+
+void ConfirmAttributeOwnershipAcquisitionCancellation::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ConfirmAttributeOwnershipAcquisitionCancellation::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ConfirmAttributeOwnershipAcquisitionCancellation::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ConfirmAttributeOwnershipAcquisitionCancellation::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ConfirmAttributeOwnershipAcquisitionCancellation::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ConfirmAttributeOwnershipAcquisitionCancellation::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ConfirmAttributeOwnershipAcquisitionCancellation* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ConfirmAttributeOwnershipAcquisitionCancellation*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ConfirmAttributeOwnershipAcquisitionCancellation::MergeFrom(const ConfirmAttributeOwnershipAcquisitionCancellation& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ConfirmAttributeOwnershipAcquisitionCancellation::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ConfirmAttributeOwnershipAcquisitionCancellation::CopyFrom(const ConfirmAttributeOwnershipAcquisitionCancellation& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ConfirmAttributeOwnershipAcquisitionCancellation::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void ConfirmAttributeOwnershipAcquisitionCancellation::Swap(ConfirmAttributeOwnershipAcquisitionCancellation* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ConfirmAttributeOwnershipAcquisitionCancellation::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ConfirmAttributeOwnershipAcquisitionCancellation_descriptor_;
+  metadata.reflection = ConfirmAttributeOwnershipAcquisitionCancellation_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int InformAttributeOwnership::kObjectInstanceHandleFieldNumber;
+const int InformAttributeOwnership::kAttributeHandleFieldNumber;
+const int InformAttributeOwnership::kFederateHandleFieldNumber;
+#endif  // !_MSC_VER
+
+InformAttributeOwnership::InformAttributeOwnership()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void InformAttributeOwnership::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+InformAttributeOwnership::InformAttributeOwnership(const InformAttributeOwnership& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void InformAttributeOwnership::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  attributehandle_ = 0u;
+  federatehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+InformAttributeOwnership::~InformAttributeOwnership() {
+  SharedDtor();
+}
+
+void InformAttributeOwnership::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void InformAttributeOwnership::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* InformAttributeOwnership::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return InformAttributeOwnership_descriptor_;
+}
+
+const InformAttributeOwnership& InformAttributeOwnership::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+InformAttributeOwnership* InformAttributeOwnership::default_instance_ = NULL;
+
+InformAttributeOwnership* InformAttributeOwnership::New() const {
+  return new InformAttributeOwnership;
+}
+
+void InformAttributeOwnership::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    attributehandle_ = 0u;
+    federatehandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool InformAttributeOwnership::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandle;
+        break;
+      }
+
+      // required uint32 attributeHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &attributehandle_)));
+          set_has_attributehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_federateHandle;
+        break;
+      }
+
+      // required uint32 federateHandle = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_federateHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatehandle_)));
+          set_has_federatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void InformAttributeOwnership::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // required uint32 attributeHandle = 2;
+  if (has_attributehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->attributehandle(), output);
+  }
+
+  // required uint32 federateHandle = 3;
+  if (has_federatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(3, this->federatehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* InformAttributeOwnership::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // required uint32 attributeHandle = 2;
+  if (has_attributehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->attributehandle(), target);
+  }
+
+  // required uint32 federateHandle = 3;
+  if (has_federatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(3, this->federatehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int InformAttributeOwnership::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // required uint32 attributeHandle = 2;
+    if (has_attributehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->attributehandle());
+    }
+
+    // required uint32 federateHandle = 3;
+    if (has_federatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void InformAttributeOwnership::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const InformAttributeOwnership* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const InformAttributeOwnership*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void InformAttributeOwnership::MergeFrom(const InformAttributeOwnership& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_attributehandle()) {
+      set_attributehandle(from.attributehandle());
+    }
+    if (from.has_federatehandle()) {
+      set_federatehandle(from.federatehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void InformAttributeOwnership::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void InformAttributeOwnership::CopyFrom(const InformAttributeOwnership& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool InformAttributeOwnership::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000007) != 0x00000007) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void InformAttributeOwnership::Swap(InformAttributeOwnership* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(attributehandle_, other->attributehandle_);
+    std::swap(federatehandle_, other->federatehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata InformAttributeOwnership::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = InformAttributeOwnership_descriptor_;
+  metadata.reflection = InformAttributeOwnership_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AttributeIsNotOwned::kObjectInstanceHandleFieldNumber;
+const int AttributeIsNotOwned::kAttributeHandleFieldNumber;
+#endif  // !_MSC_VER
+
+AttributeIsNotOwned::AttributeIsNotOwned()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AttributeIsNotOwned::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+AttributeIsNotOwned::AttributeIsNotOwned(const AttributeIsNotOwned& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AttributeIsNotOwned::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  attributehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AttributeIsNotOwned::~AttributeIsNotOwned() {
+  SharedDtor();
+}
+
+void AttributeIsNotOwned::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void AttributeIsNotOwned::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AttributeIsNotOwned::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AttributeIsNotOwned_descriptor_;
+}
+
+const AttributeIsNotOwned& AttributeIsNotOwned::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AttributeIsNotOwned* AttributeIsNotOwned::default_instance_ = NULL;
+
+AttributeIsNotOwned* AttributeIsNotOwned::New() const {
+  return new AttributeIsNotOwned;
+}
+
+void AttributeIsNotOwned::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    attributehandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AttributeIsNotOwned::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandle;
+        break;
+      }
+
+      // required uint32 attributeHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &attributehandle_)));
+          set_has_attributehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AttributeIsNotOwned::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // required uint32 attributeHandle = 2;
+  if (has_attributehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->attributehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AttributeIsNotOwned::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // required uint32 attributeHandle = 2;
+  if (has_attributehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->attributehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AttributeIsNotOwned::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // required uint32 attributeHandle = 2;
+    if (has_attributehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->attributehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AttributeIsNotOwned::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AttributeIsNotOwned* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AttributeIsNotOwned*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AttributeIsNotOwned::MergeFrom(const AttributeIsNotOwned& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_attributehandle()) {
+      set_attributehandle(from.attributehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AttributeIsNotOwned::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AttributeIsNotOwned::CopyFrom(const AttributeIsNotOwned& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AttributeIsNotOwned::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AttributeIsNotOwned::Swap(AttributeIsNotOwned* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(attributehandle_, other->attributehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AttributeIsNotOwned::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AttributeIsNotOwned_descriptor_;
+  metadata.reflection = AttributeIsNotOwned_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AttributeIsOwnedByRTI::kObjectInstanceHandleFieldNumber;
+const int AttributeIsOwnedByRTI::kAttributeHandleFieldNumber;
+#endif  // !_MSC_VER
+
+AttributeIsOwnedByRTI::AttributeIsOwnedByRTI()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AttributeIsOwnedByRTI::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+AttributeIsOwnedByRTI::AttributeIsOwnedByRTI(const AttributeIsOwnedByRTI& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AttributeIsOwnedByRTI::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  attributehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AttributeIsOwnedByRTI::~AttributeIsOwnedByRTI() {
+  SharedDtor();
+}
+
+void AttributeIsOwnedByRTI::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void AttributeIsOwnedByRTI::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AttributeIsOwnedByRTI::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AttributeIsOwnedByRTI_descriptor_;
+}
+
+const AttributeIsOwnedByRTI& AttributeIsOwnedByRTI::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AttributeIsOwnedByRTI* AttributeIsOwnedByRTI::default_instance_ = NULL;
+
+AttributeIsOwnedByRTI* AttributeIsOwnedByRTI::New() const {
+  return new AttributeIsOwnedByRTI;
+}
+
+void AttributeIsOwnedByRTI::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    attributehandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AttributeIsOwnedByRTI::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandle;
+        break;
+      }
+
+      // required uint32 attributeHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &attributehandle_)));
+          set_has_attributehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AttributeIsOwnedByRTI::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // required uint32 attributeHandle = 2;
+  if (has_attributehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->attributehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AttributeIsOwnedByRTI::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // required uint32 attributeHandle = 2;
+  if (has_attributehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->attributehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AttributeIsOwnedByRTI::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // required uint32 attributeHandle = 2;
+    if (has_attributehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->attributehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AttributeIsOwnedByRTI::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AttributeIsOwnedByRTI* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AttributeIsOwnedByRTI*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AttributeIsOwnedByRTI::MergeFrom(const AttributeIsOwnedByRTI& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_attributehandle()) {
+      set_attributehandle(from.attributehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AttributeIsOwnedByRTI::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AttributeIsOwnedByRTI::CopyFrom(const AttributeIsOwnedByRTI& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AttributeIsOwnedByRTI::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AttributeIsOwnedByRTI::Swap(AttributeIsOwnedByRTI* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(attributehandle_, other->attributehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AttributeIsOwnedByRTI::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AttributeIsOwnedByRTI_descriptor_;
+  metadata.reflection = AttributeIsOwnedByRTI_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int TimeRegulationEnabled::kTimeFieldNumber;
+#endif  // !_MSC_VER
+
+TimeRegulationEnabled::TimeRegulationEnabled()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void TimeRegulationEnabled::InitAsDefaultInstance() {
+}
+
+TimeRegulationEnabled::TimeRegulationEnabled(const TimeRegulationEnabled& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void TimeRegulationEnabled::SharedCtor() {
+  _cached_size_ = 0;
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+TimeRegulationEnabled::~TimeRegulationEnabled() {
+  SharedDtor();
+}
+
+void TimeRegulationEnabled::SharedDtor() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void TimeRegulationEnabled::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* TimeRegulationEnabled::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return TimeRegulationEnabled_descriptor_;
+}
+
+const TimeRegulationEnabled& TimeRegulationEnabled::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+TimeRegulationEnabled* TimeRegulationEnabled::default_instance_ = NULL;
+
+TimeRegulationEnabled* TimeRegulationEnabled::New() const {
+  return new TimeRegulationEnabled;
+}
+
+void TimeRegulationEnabled::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool TimeRegulationEnabled::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required bytes time = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void TimeRegulationEnabled::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      1, this->time(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* TimeRegulationEnabled::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        1, this->time(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int TimeRegulationEnabled::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required bytes time = 1;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void TimeRegulationEnabled::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const TimeRegulationEnabled* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const TimeRegulationEnabled*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void TimeRegulationEnabled::MergeFrom(const TimeRegulationEnabled& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void TimeRegulationEnabled::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void TimeRegulationEnabled::CopyFrom(const TimeRegulationEnabled& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool TimeRegulationEnabled::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void TimeRegulationEnabled::Swap(TimeRegulationEnabled* other) {
+  if (other != this) {
+    std::swap(time_, other->time_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata TimeRegulationEnabled::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = TimeRegulationEnabled_descriptor_;
+  metadata.reflection = TimeRegulationEnabled_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int TimeConstrainedEnabled::kTimeFieldNumber;
+#endif  // !_MSC_VER
+
+TimeConstrainedEnabled::TimeConstrainedEnabled()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void TimeConstrainedEnabled::InitAsDefaultInstance() {
+}
+
+TimeConstrainedEnabled::TimeConstrainedEnabled(const TimeConstrainedEnabled& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void TimeConstrainedEnabled::SharedCtor() {
+  _cached_size_ = 0;
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+TimeConstrainedEnabled::~TimeConstrainedEnabled() {
+  SharedDtor();
+}
+
+void TimeConstrainedEnabled::SharedDtor() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void TimeConstrainedEnabled::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* TimeConstrainedEnabled::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return TimeConstrainedEnabled_descriptor_;
+}
+
+const TimeConstrainedEnabled& TimeConstrainedEnabled::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+TimeConstrainedEnabled* TimeConstrainedEnabled::default_instance_ = NULL;
+
+TimeConstrainedEnabled* TimeConstrainedEnabled::New() const {
+  return new TimeConstrainedEnabled;
+}
+
+void TimeConstrainedEnabled::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool TimeConstrainedEnabled::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required bytes time = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void TimeConstrainedEnabled::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      1, this->time(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* TimeConstrainedEnabled::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        1, this->time(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int TimeConstrainedEnabled::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required bytes time = 1;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void TimeConstrainedEnabled::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const TimeConstrainedEnabled* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const TimeConstrainedEnabled*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void TimeConstrainedEnabled::MergeFrom(const TimeConstrainedEnabled& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void TimeConstrainedEnabled::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void TimeConstrainedEnabled::CopyFrom(const TimeConstrainedEnabled& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool TimeConstrainedEnabled::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void TimeConstrainedEnabled::Swap(TimeConstrainedEnabled* other) {
+  if (other != this) {
+    std::swap(time_, other->time_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata TimeConstrainedEnabled::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = TimeConstrainedEnabled_descriptor_;
+  metadata.reflection = TimeConstrainedEnabled_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int TimeAdvanceGrant::kTimeFieldNumber;
+#endif  // !_MSC_VER
+
+TimeAdvanceGrant::TimeAdvanceGrant()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void TimeAdvanceGrant::InitAsDefaultInstance() {
+}
+
+TimeAdvanceGrant::TimeAdvanceGrant(const TimeAdvanceGrant& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void TimeAdvanceGrant::SharedCtor() {
+  _cached_size_ = 0;
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+TimeAdvanceGrant::~TimeAdvanceGrant() {
+  SharedDtor();
+}
+
+void TimeAdvanceGrant::SharedDtor() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void TimeAdvanceGrant::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* TimeAdvanceGrant::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return TimeAdvanceGrant_descriptor_;
+}
+
+const TimeAdvanceGrant& TimeAdvanceGrant::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+TimeAdvanceGrant* TimeAdvanceGrant::default_instance_ = NULL;
+
+TimeAdvanceGrant* TimeAdvanceGrant::New() const {
+  return new TimeAdvanceGrant;
+}
+
+void TimeAdvanceGrant::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool TimeAdvanceGrant::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required bytes time = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void TimeAdvanceGrant::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      1, this->time(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* TimeAdvanceGrant::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        1, this->time(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int TimeAdvanceGrant::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required bytes time = 1;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void TimeAdvanceGrant::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const TimeAdvanceGrant* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const TimeAdvanceGrant*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void TimeAdvanceGrant::MergeFrom(const TimeAdvanceGrant& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void TimeAdvanceGrant::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void TimeAdvanceGrant::CopyFrom(const TimeAdvanceGrant& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool TimeAdvanceGrant::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void TimeAdvanceGrant::Swap(TimeAdvanceGrant* other) {
+  if (other != this) {
+    std::swap(time_, other->time_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata TimeAdvanceGrant::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = TimeAdvanceGrant_descriptor_;
+  metadata.reflection = TimeAdvanceGrant_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RequestRetraction::kMessageRetractionHandleFieldNumber;
+#endif  // !_MSC_VER
+
+RequestRetraction::RequestRetraction()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestRetraction::InitAsDefaultInstance() {
+  messageretractionhandle_ = const_cast< ::ohla::rti::proto::MessageRetractionHandle*>(&::ohla::rti::proto::MessageRetractionHandle::default_instance());
+}
+
+RequestRetraction::RequestRetraction(const RequestRetraction& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestRetraction::SharedCtor() {
+  _cached_size_ = 0;
+  messageretractionhandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestRetraction::~RequestRetraction() {
+  SharedDtor();
+}
+
+void RequestRetraction::SharedDtor() {
+  if (this != default_instance_) {
+    delete messageretractionhandle_;
+  }
+}
+
+void RequestRetraction::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestRetraction::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestRetraction_descriptor_;
+}
+
+const RequestRetraction& RequestRetraction::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestRetraction* RequestRetraction::default_instance_ = NULL;
+
+RequestRetraction* RequestRetraction::New() const {
+  return new RequestRetraction;
+}
+
+void RequestRetraction::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_messageretractionhandle()) {
+      if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestRetraction::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_messageretractionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestRetraction::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 1;
+  if (has_messageretractionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->messageretractionhandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestRetraction::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 1;
+  if (has_messageretractionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->messageretractionhandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestRetraction::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 1;
+    if (has_messageretractionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->messageretractionhandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestRetraction::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestRetraction* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestRetraction*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestRetraction::MergeFrom(const RequestRetraction& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_messageretractionhandle()) {
+      mutable_messageretractionhandle()->::ohla::rti::proto::MessageRetractionHandle::MergeFrom(from.messageretractionhandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestRetraction::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestRetraction::CopyFrom(const RequestRetraction& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestRetraction::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_messageretractionhandle()) {
+    if (!this->messageretractionhandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void RequestRetraction::Swap(RequestRetraction* other) {
+  if (other != this) {
+    std::swap(messageretractionhandle_, other->messageretractionhandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestRetraction::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestRetraction_descriptor_;
+  metadata.reflection = RequestRetraction_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+ResignedFederationExecution::ResignedFederationExecution()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ResignedFederationExecution::InitAsDefaultInstance() {
+}
+
+ResignedFederationExecution::ResignedFederationExecution(const ResignedFederationExecution& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ResignedFederationExecution::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ResignedFederationExecution::~ResignedFederationExecution() {
+  SharedDtor();
+}
+
+void ResignedFederationExecution::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void ResignedFederationExecution::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ResignedFederationExecution::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ResignedFederationExecution_descriptor_;
+}
+
+const ResignedFederationExecution& ResignedFederationExecution::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederateMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ResignedFederationExecution* ResignedFederationExecution::default_instance_ = NULL;
+
+ResignedFederationExecution* ResignedFederationExecution::New() const {
+  return new ResignedFederationExecution;
+}
+
+void ResignedFederationExecution::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ResignedFederationExecution::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void ResignedFederationExecution::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ResignedFederationExecution::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ResignedFederationExecution::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ResignedFederationExecution::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ResignedFederationExecution* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ResignedFederationExecution*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ResignedFederationExecution::MergeFrom(const ResignedFederationExecution& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ResignedFederationExecution::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ResignedFederationExecution::CopyFrom(const ResignedFederationExecution& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ResignedFederationExecution::IsInitialized() const {
+
+  return true;
+}
+
+void ResignedFederationExecution::Swap(ResignedFederationExecution* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ResignedFederationExecution::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ResignedFederationExecution_descriptor_;
+  metadata.reflection = ResignedFederationExecution_reflection_;
+  return metadata;
+}
+
+
+// @@protoc_insertion_point(namespace_scope)
+
+}  // namespace proto
+}  // namespace messages
+}  // namespace rti
+}  // namespace ohla
+
+// @@protoc_insertion_point(global_scope)
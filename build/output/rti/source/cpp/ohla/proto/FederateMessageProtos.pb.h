@@ -0,0 +1,14461 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: FederateMessageProtos.proto
+
+#ifndef PROTOBUF_FederateMessageProtos_2eproto__INCLUDED
+#define PROTOBUF_FederateMessageProtos_2eproto__INCLUDED
+
+#include <string>
+
+#include <google/protobuf/stubs/common.h>
+
+#if GOOGLE_PROTOBUF_VERSION < 2005000
+#error This file was generated by a newer version of protoc which is
+#error incompatible with your Protocol Buffer headers.  Please update
+#error your headers.
+#endif
+#if 2005000 < GOOGLE_PROTOBUF_MIN_PROTOC_VERSION
+#error This file was generated by an older version of protoc which is
+#error incompatible with your Protocol Buffer headers.  Please
+#error regenerate this file with a newer version of protoc.
+#endif
+
+#include <google/protobuf/generated_message_util.h>
+#include <google/protobuf/message.h>
+#include <google/protobuf/repeated_field.h>
+#include <google/protobuf/extension_set.h>
+#include <google/protobuf/generated_enum_reflection.h>
+#include <google/protobuf/unknown_field_set.h>
+#include "OHLAProtos.pb.h"
+#include "MessageProtos.pb.h"
+// @@protoc_insertion_point(includes)
+
+namespace ohla {
+namespace rti {
+namespace messages {
+namespace proto {
+
+// Internal implementation detail -- do not call these.
+void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+class FDDUpdated;
+class JoinFederationExecutionResponse;
+class JoinFederationExecutionResponse_Success;
+class JoinFederationExecutionResponse_Failure;
+class RequestFederationSaveResponse;
+class RequestFederationSaveResponse_Failure;
+class AbortFederationSaveResponse;
+class AbortFederationSaveResponse_Failure;
+class RequestFederationRestoreResponse;
+class RequestFederationRestoreResponse_Failure;
+class AbortFederationRestoreResponse;
+class AbortFederationRestoreResponse_Failure;
+class ObjectInstanceNameReservationSucceeded;
+class ObjectInstanceNameReservationFailed;
+class MultipleObjectInstanceNameReservationSucceeded;
+class MultipleObjectInstanceNameReservationFailed;
+class ReportInteractionTransportationType;
+class GetFederateHandleResponse;
+class GetFederateHandleResponse_Success;
+class GetFederateHandleResponse_Failure;
+class GetFederateNameResponse;
+class GetFederateNameResponse_Success;
+class GetFederateNameResponse_Failure;
+class GetUpdateRateValueForAttributeResponse;
+class GetUpdateRateValueForAttributeResponse_Success;
+class GetUpdateRateValueForAttributeResponse_Failure;
+class AttributeOwnershipDivestitureIfWantedResponse;
+class QueryGALTResponse;
+class QueryLITSResponse;
+class RetractResponse;
+class RetractResponse_Failure;
+class AssociateRegionsForUpdatesResponse;
+class AssociateRegionsForUpdatesResponse_Failure;
+class UnassociateRegionsForUpdatesResponse;
+class UnassociateRegionsForUpdatesResponse_Failure;
+class SynchronizationPointRegistrationSucceeded;
+class SynchronizationPointRegistrationFailed;
+class AnnounceSynchronizationPoint;
+class FederationSynchronized;
+class InitiateFederateSave;
+class FederationSaved;
+class FederationNotSaved;
+class FederateSaveStatus;
+class FederationSaveStatusResponse;
+class RequestFederationRestoreSucceeded;
+class RequestFederationRestoreFailed;
+class FederationRestoreBegun;
+class InitiateFederateRestore;
+class FederationRestored;
+class FederationNotRestored;
+class FederateRestoreStatus;
+class FederationRestoreStatusResponse;
+class StartRegistrationForObjectClass;
+class StopRegistrationForObjectClass;
+class TurnInteractionsOn;
+class TurnInteractionsOff;
+class DiscoverObjectInstance;
+class Region;
+class ReflectAttributeValues;
+class RemoveObjectInstance;
+class AttributesInScope;
+class AttributesOutOfScope;
+class ProvideAttributeValueUpdate;
+class TurnUpdatesOnForObjectInstance;
+class TurnUpdatesOffForObjectInstance;
+class ReceiveInteraction;
+class RequestAttributeOwnershipAssumption;
+class RequestDivestitureConfirmation;
+class AttributeOwnershipAcquisitionNotification;
+class AttributeOwnershipUnavailable;
+class RequestAttributeOwnershipRelease;
+class ConfirmAttributeOwnershipAcquisitionCancellation;
+class InformAttributeOwnership;
+class AttributeIsNotOwned;
+class AttributeIsOwnedByRTI;
+class TimeRegulationEnabled;
+class TimeConstrainedEnabled;
+class TimeAdvanceGrant;
+class RequestRetraction;
+class ResignedFederationExecution;
+
+enum JoinFederationExecutionResponse_Failure_Cause {
+  JoinFederationExecutionResponse_Failure_Cause_FEDERATE_NAME_ALREADY_IN_USE = 2,
+  JoinFederationExecutionResponse_Failure_Cause_FEDERATION_EXECUTION_DOES_NOT_EXIST = 3,
+  JoinFederationExecutionResponse_Failure_Cause_SAVE_IN_PROGRESS = 4,
+  JoinFederationExecutionResponse_Failure_Cause_RESTORE_IN_PROGRESS = 5,
+  JoinFederationExecutionResponse_Failure_Cause_INCONSISTENT_FDD = 6
+};
+bool JoinFederationExecutionResponse_Failure_Cause_IsValid(int value);
+const JoinFederationExecutionResponse_Failure_Cause JoinFederationExecutionResponse_Failure_Cause_Cause_MIN = JoinFederationExecutionResponse_Failure_Cause_FEDERATE_NAME_ALREADY_IN_USE;
+const JoinFederationExecutionResponse_Failure_Cause JoinFederationExecutionResponse_Failure_Cause_Cause_MAX = JoinFederationExecutionResponse_Failure_Cause_INCONSISTENT_FDD;
+const int JoinFederationExecutionResponse_Failure_Cause_Cause_ARRAYSIZE = JoinFederationExecutionResponse_Failure_Cause_Cause_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* JoinFederationExecutionResponse_Failure_Cause_descriptor();
+inline const ::std::string& JoinFederationExecutionResponse_Failure_Cause_Name(JoinFederationExecutionResponse_Failure_Cause value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    JoinFederationExecutionResponse_Failure_Cause_descriptor(), value);
+}
+inline bool JoinFederationExecutionResponse_Failure_Cause_Parse(
+    const ::std::string& name, JoinFederationExecutionResponse_Failure_Cause* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<JoinFederationExecutionResponse_Failure_Cause>(
+    JoinFederationExecutionResponse_Failure_Cause_descriptor(), name, value);
+}
+enum RequestFederationSaveResponse_Failure_Cause {
+  RequestFederationSaveResponse_Failure_Cause_LOGICAL_TIME_ALREADY_PASSED = 1,
+  RequestFederationSaveResponse_Failure_Cause_FEDERATE_UNABLE_TO_USE_TIME = 2,
+  RequestFederationSaveResponse_Failure_Cause_SAVE_IN_PROGRESS = 3,
+  RequestFederationSaveResponse_Failure_Cause_RESTORE_IN_PROGRESS = 4,
+  RequestFederationSaveResponse_Failure_Cause_RTI_INTERNAL_ERROR = 5
+};
+bool RequestFederationSaveResponse_Failure_Cause_IsValid(int value);
+const RequestFederationSaveResponse_Failure_Cause RequestFederationSaveResponse_Failure_Cause_Cause_MIN = RequestFederationSaveResponse_Failure_Cause_LOGICAL_TIME_ALREADY_PASSED;
+const RequestFederationSaveResponse_Failure_Cause RequestFederationSaveResponse_Failure_Cause_Cause_MAX = RequestFederationSaveResponse_Failure_Cause_RTI_INTERNAL_ERROR;
+const int RequestFederationSaveResponse_Failure_Cause_Cause_ARRAYSIZE = RequestFederationSaveResponse_Failure_Cause_Cause_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* RequestFederationSaveResponse_Failure_Cause_descriptor();
+inline const ::std::string& RequestFederationSaveResponse_Failure_Cause_Name(RequestFederationSaveResponse_Failure_Cause value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    RequestFederationSaveResponse_Failure_Cause_descriptor(), value);
+}
+inline bool RequestFederationSaveResponse_Failure_Cause_Parse(
+    const ::std::string& name, RequestFederationSaveResponse_Failure_Cause* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<RequestFederationSaveResponse_Failure_Cause>(
+    RequestFederationSaveResponse_Failure_Cause_descriptor(), name, value);
+}
+enum AbortFederationSaveResponse_Failure_Cause {
+  AbortFederationSaveResponse_Failure_Cause_SAVE_NOT_IN_PROGRESS = 1
+};
+bool AbortFederationSaveResponse_Failure_Cause_IsValid(int value);
+const AbortFederationSaveResponse_Failure_Cause AbortFederationSaveResponse_Failure_Cause_Cause_MIN = AbortFederationSaveResponse_Failure_Cause_SAVE_NOT_IN_PROGRESS;
+const AbortFederationSaveResponse_Failure_Cause AbortFederationSaveResponse_Failure_Cause_Cause_MAX = AbortFederationSaveResponse_Failure_Cause_SAVE_NOT_IN_PROGRESS;
+const int AbortFederationSaveResponse_Failure_Cause_Cause_ARRAYSIZE = AbortFederationSaveResponse_Failure_Cause_Cause_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* AbortFederationSaveResponse_Failure_Cause_descriptor();
+inline const ::std::string& AbortFederationSaveResponse_Failure_Cause_Name(AbortFederationSaveResponse_Failure_Cause value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    AbortFederationSaveResponse_Failure_Cause_descriptor(), value);
+}
+inline bool AbortFederationSaveResponse_Failure_Cause_Parse(
+    const ::std::string& name, AbortFederationSaveResponse_Failure_Cause* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<AbortFederationSaveResponse_Failure_Cause>(
+    AbortFederationSaveResponse_Failure_Cause_descriptor(), name, value);
+}
+enum RequestFederationRestoreResponse_Failure_Cause {
+  RequestFederationRestoreResponse_Failure_Cause_SAVE_IN_PROGRESS = 1,
+  RequestFederationRestoreResponse_Failure_Cause_RESTORE_IN_PROGRESS = 2,
+  RequestFederationRestoreResponse_Failure_Cause_RTI_INTERNAL_ERROR = 3
+};
+bool RequestFederationRestoreResponse_Failure_Cause_IsValid(int value);
+const RequestFederationRestoreResponse_Failure_Cause RequestFederationRestoreResponse_Failure_Cause_Cause_MIN = RequestFederationRestoreResponse_Failure_Cause_SAVE_IN_PROGRESS;
+const RequestFederationRestoreResponse_Failure_Cause RequestFederationRestoreResponse_Failure_Cause_Cause_MAX = RequestFederationRestoreResponse_Failure_Cause_RTI_INTERNAL_ERROR;
+const int RequestFederationRestoreResponse_Failure_Cause_Cause_ARRAYSIZE = RequestFederationRestoreResponse_Failure_Cause_Cause_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* RequestFederationRestoreResponse_Failure_Cause_descriptor();
+inline const ::std::string& RequestFederationRestoreResponse_Failure_Cause_Name(RequestFederationRestoreResponse_Failure_Cause value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    RequestFederationRestoreResponse_Failure_Cause_descriptor(), value);
+}
+inline bool RequestFederationRestoreResponse_Failure_Cause_Parse(
+    const ::std::string& name, RequestFederationRestoreResponse_Failure_Cause* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<RequestFederationRestoreResponse_Failure_Cause>(
+    RequestFederationRestoreResponse_Failure_Cause_descriptor(), name, value);
+}
+enum AbortFederationRestoreResponse_Failure_Cause {
+  AbortFederationRestoreResponse_Failure_Cause_RESTORE_NOT_IN_PROGRESS = 1
+};
+bool AbortFederationRestoreResponse_Failure_Cause_IsValid(int value);
+const AbortFederationRestoreResponse_Failure_Cause AbortFederationRestoreResponse_Failure_Cause_Cause_MIN = AbortFederationRestoreResponse_Failure_Cause_RESTORE_NOT_IN_PROGRESS;
+const AbortFederationRestoreResponse_Failure_Cause AbortFederationRestoreResponse_Failure_Cause_Cause_MAX = AbortFederationRestoreResponse_Failure_Cause_RESTORE_NOT_IN_PROGRESS;
+const int AbortFederationRestoreResponse_Failure_Cause_Cause_ARRAYSIZE = AbortFederationRestoreResponse_Failure_Cause_Cause_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* AbortFederationRestoreResponse_Failure_Cause_descriptor();
+inline const ::std::string& AbortFederationRestoreResponse_Failure_Cause_Name(AbortFederationRestoreResponse_Failure_Cause value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    AbortFederationRestoreResponse_Failure_Cause_descriptor(), value);
+}
+inline bool AbortFederationRestoreResponse_Failure_Cause_Parse(
+    const ::std::string& name, AbortFederationRestoreResponse_Failure_Cause* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<AbortFederationRestoreResponse_Failure_Cause>(
+    AbortFederationRestoreResponse_Failure_Cause_descriptor(), name, value);
+}
+enum GetFederateHandleResponse_Failure_Cause {
+  GetFederateHandleResponse_Failure_Cause_NAME_NOT_FOUND = 1
+};
+bool GetFederateHandleResponse_Failure_Cause_IsValid(int value);
+const GetFederateHandleResponse_Failure_Cause GetFederateHandleResponse_Failure_Cause_Cause_MIN = GetFederateHandleResponse_Failure_Cause_NAME_NOT_FOUND;
+const GetFederateHandleResponse_Failure_Cause GetFederateHandleResponse_Failure_Cause_Cause_MAX = GetFederateHandleResponse_Failure_Cause_NAME_NOT_FOUND;
+const int GetFederateHandleResponse_Failure_Cause_Cause_ARRAYSIZE = GetFederateHandleResponse_Failure_Cause_Cause_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* GetFederateHandleResponse_Failure_Cause_descriptor();
+inline const ::std::string& GetFederateHandleResponse_Failure_Cause_Name(GetFederateHandleResponse_Failure_Cause value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    GetFederateHandleResponse_Failure_Cause_descriptor(), value);
+}
+inline bool GetFederateHandleResponse_Failure_Cause_Parse(
+    const ::std::string& name, GetFederateHandleResponse_Failure_Cause* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<GetFederateHandleResponse_Failure_Cause>(
+    GetFederateHandleResponse_Failure_Cause_descriptor(), name, value);
+}
+enum GetFederateNameResponse_Failure_Cause {
+  GetFederateNameResponse_Failure_Cause_FEDERATE_HANDLE_NOT_KNOWN = 1
+};
+bool GetFederateNameResponse_Failure_Cause_IsValid(int value);
+const GetFederateNameResponse_Failure_Cause GetFederateNameResponse_Failure_Cause_Cause_MIN = GetFederateNameResponse_Failure_Cause_FEDERATE_HANDLE_NOT_KNOWN;
+const GetFederateNameResponse_Failure_Cause GetFederateNameResponse_Failure_Cause_Cause_MAX = GetFederateNameResponse_Failure_Cause_FEDERATE_HANDLE_NOT_KNOWN;
+const int GetFederateNameResponse_Failure_Cause_Cause_ARRAYSIZE = GetFederateNameResponse_Failure_Cause_Cause_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* GetFederateNameResponse_Failure_Cause_descriptor();
+inline const ::std::string& GetFederateNameResponse_Failure_Cause_Name(GetFederateNameResponse_Failure_Cause value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    GetFederateNameResponse_Failure_Cause_descriptor(), value);
+}
+inline bool GetFederateNameResponse_Failure_Cause_Parse(
+    const ::std::string& name, GetFederateNameResponse_Failure_Cause* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<GetFederateNameResponse_Failure_Cause>(
+    GetFederateNameResponse_Failure_Cause_descriptor(), name, value);
+}
+enum GetUpdateRateValueForAttributeResponse_Failure_Cause {
+  GetUpdateRateValueForAttributeResponse_Failure_Cause_OBJECT_INSTANCE_NOT_KNOWN = 1
+};
+bool GetUpdateRateValueForAttributeResponse_Failure_Cause_IsValid(int value);
+const GetUpdateRateValueForAttributeResponse_Failure_Cause GetUpdateRateValueForAttributeResponse_Failure_Cause_Cause_MIN = GetUpdateRateValueForAttributeResponse_Failure_Cause_OBJECT_INSTANCE_NOT_KNOWN;
+const GetUpdateRateValueForAttributeResponse_Failure_Cause GetUpdateRateValueForAttributeResponse_Failure_Cause_Cause_MAX = GetUpdateRateValueForAttributeResponse_Failure_Cause_OBJECT_INSTANCE_NOT_KNOWN;
+const int GetUpdateRateValueForAttributeResponse_Failure_Cause_Cause_ARRAYSIZE = GetUpdateRateValueForAttributeResponse_Failure_Cause_Cause_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* GetUpdateRateValueForAttributeResponse_Failure_Cause_descriptor();
+inline const ::std::string& GetUpdateRateValueForAttributeResponse_Failure_Cause_Name(GetUpdateRateValueForAttributeResponse_Failure_Cause value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    GetUpdateRateValueForAttributeResponse_Failure_Cause_descriptor(), value);
+}
+inline bool GetUpdateRateValueForAttributeResponse_Failure_Cause_Parse(
+    const ::std::string& name, GetUpdateRateValueForAttributeResponse_Failure_Cause* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<GetUpdateRateValueForAttributeResponse_Failure_Cause>(
+    GetUpdateRateValueForAttributeResponse_Failure_Cause_descriptor(), name, value);
+}
+enum RetractResponse_Failure_Cause {
+  RetractResponse_Failure_Cause_SAVE_IN_PROGRESS = 1,
+  RetractResponse_Failure_Cause_RESTORE_IN_PROGRESS = 2
+};
+bool RetractResponse_Failure_Cause_IsValid(int value);
+const RetractResponse_Failure_Cause RetractResponse_Failure_Cause_Cause_MIN = RetractResponse_Failure_Cause_SAVE_IN_PROGRESS;
+const RetractResponse_Failure_Cause RetractResponse_Failure_Cause_Cause_MAX = RetractResponse_Failure_Cause_RESTORE_IN_PROGRESS;
+const int RetractResponse_Failure_Cause_Cause_ARRAYSIZE = RetractResponse_Failure_Cause_Cause_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* RetractResponse_Failure_Cause_descriptor();
+inline const ::std::string& RetractResponse_Failure_Cause_Name(RetractResponse_Failure_Cause value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    RetractResponse_Failure_Cause_descriptor(), value);
+}
+inline bool RetractResponse_Failure_Cause_Parse(
+    const ::std::string& name, RetractResponse_Failure_Cause* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<RetractResponse_Failure_Cause>(
+    RetractResponse_Failure_Cause_descriptor(), name, value);
+}
+enum AssociateRegionsForUpdatesResponse_Failure_Cause {
+  AssociateRegionsForUpdatesResponse_Failure_Cause_SAVE_IN_PROGRESS = 1,
+  AssociateRegionsForUpdatesResponse_Failure_Cause_OBJECT_INSTANCE_NOT_KNOWN = 2
+};
+bool AssociateRegionsForUpdatesResponse_Failure_Cause_IsValid(int value);
+const AssociateRegionsForUpdatesResponse_Failure_Cause AssociateRegionsForUpdatesResponse_Failure_Cause_Cause_MIN = AssociateRegionsForUpdatesResponse_Failure_Cause_SAVE_IN_PROGRESS;
+const AssociateRegionsForUpdatesResponse_Failure_Cause AssociateRegionsForUpdatesResponse_Failure_Cause_Cause_MAX = AssociateRegionsForUpdatesResponse_Failure_Cause_OBJECT_INSTANCE_NOT_KNOWN;
+const int AssociateRegionsForUpdatesResponse_Failure_Cause_Cause_ARRAYSIZE = AssociateRegionsForUpdatesResponse_Failure_Cause_Cause_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* AssociateRegionsForUpdatesResponse_Failure_Cause_descriptor();
+inline const ::std::string& AssociateRegionsForUpdatesResponse_Failure_Cause_Name(AssociateRegionsForUpdatesResponse_Failure_Cause value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    AssociateRegionsForUpdatesResponse_Failure_Cause_descriptor(), value);
+}
+inline bool AssociateRegionsForUpdatesResponse_Failure_Cause_Parse(
+    const ::std::string& name, AssociateRegionsForUpdatesResponse_Failure_Cause* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<AssociateRegionsForUpdatesResponse_Failure_Cause>(
+    AssociateRegionsForUpdatesResponse_Failure_Cause_descriptor(), name, value);
+}
+enum UnassociateRegionsForUpdatesResponse_Failure_Cause {
+  UnassociateRegionsForUpdatesResponse_Failure_Cause_SAVE_IN_PROGRESS = 1,
+  UnassociateRegionsForUpdatesResponse_Failure_Cause_OBJECT_INSTANCE_NOT_KNOWN = 2
+};
+bool UnassociateRegionsForUpdatesResponse_Failure_Cause_IsValid(int value);
+const UnassociateRegionsForUpdatesResponse_Failure_Cause UnassociateRegionsForUpdatesResponse_Failure_Cause_Cause_MIN = UnassociateRegionsForUpdatesResponse_Failure_Cause_SAVE_IN_PROGRESS;
+const UnassociateRegionsForUpdatesResponse_Failure_Cause UnassociateRegionsForUpdatesResponse_Failure_Cause_Cause_MAX = UnassociateRegionsForUpdatesResponse_Failure_Cause_OBJECT_INSTANCE_NOT_KNOWN;
+const int UnassociateRegionsForUpdatesResponse_Failure_Cause_Cause_ARRAYSIZE = UnassociateRegionsForUpdatesResponse_Failure_Cause_Cause_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* UnassociateRegionsForUpdatesResponse_Failure_Cause_descriptor();
+inline const ::std::string& UnassociateRegionsForUpdatesResponse_Failure_Cause_Name(UnassociateRegionsForUpdatesResponse_Failure_Cause value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    UnassociateRegionsForUpdatesResponse_Failure_Cause_descriptor(), value);
+}
+inline bool UnassociateRegionsForUpdatesResponse_Failure_Cause_Parse(
+    const ::std::string& name, UnassociateRegionsForUpdatesResponse_Failure_Cause* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<UnassociateRegionsForUpdatesResponse_Failure_Cause>(
+    UnassociateRegionsForUpdatesResponse_Failure_Cause_descriptor(), name, value);
+}
+enum SynchronizationPointFailureReason {
+  SYNCHRONIZATION_POINT_LABEL_NOT_UNIQUE = 1,
+  SYNCHRONIZATION_SET_MEMBER_NOT_JOINED = 2
+};
+bool SynchronizationPointFailureReason_IsValid(int value);
+const SynchronizationPointFailureReason SynchronizationPointFailureReason_MIN = SYNCHRONIZATION_POINT_LABEL_NOT_UNIQUE;
+const SynchronizationPointFailureReason SynchronizationPointFailureReason_MAX = SYNCHRONIZATION_SET_MEMBER_NOT_JOINED;
+const int SynchronizationPointFailureReason_ARRAYSIZE = SynchronizationPointFailureReason_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* SynchronizationPointFailureReason_descriptor();
+inline const ::std::string& SynchronizationPointFailureReason_Name(SynchronizationPointFailureReason value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    SynchronizationPointFailureReason_descriptor(), value);
+}
+inline bool SynchronizationPointFailureReason_Parse(
+    const ::std::string& name, SynchronizationPointFailureReason* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<SynchronizationPointFailureReason>(
+    SynchronizationPointFailureReason_descriptor(), name, value);
+}
+enum SaveFailureReason {
+  RTI_UNABLE_TO_SAVE = 1,
+  FEDERATE_REPORTED_FAILURE_DURING_SAVE = 2,
+  FEDERATE_RESIGNED_DURING_SAVE = 3,
+  RTI_DETECTED_FAILURE_DURING_SAVE = 4,
+  SAVE_TIME_CANNOT_BE_HONORED = 5,
+  SAVE_ABORTED = 6
+};
+bool SaveFailureReason_IsValid(int value);
+const SaveFailureReason SaveFailureReason_MIN = RTI_UNABLE_TO_SAVE;
+const SaveFailureReason SaveFailureReason_MAX = SAVE_ABORTED;
+const int SaveFailureReason_ARRAYSIZE = SaveFailureReason_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* SaveFailureReason_descriptor();
+inline const ::std::string& SaveFailureReason_Name(SaveFailureReason value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    SaveFailureReason_descriptor(), value);
+}
+inline bool SaveFailureReason_Parse(
+    const ::std::string& name, SaveFailureReason* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<SaveFailureReason>(
+    SaveFailureReason_descriptor(), name, value);
+}
+enum SaveStatus {
+  NO_SAVE_IN_PROGRESS = 1,
+  FEDERATE_INSTRUCTED_TO_SAVE = 2,
+  FEDERATE_SAVING = 3,
+  FEDERATE_WAITING_FOR_FEDERATION_TO_SAVE = 4
+};
+bool SaveStatus_IsValid(int value);
+const SaveStatus SaveStatus_MIN = NO_SAVE_IN_PROGRESS;
+const SaveStatus SaveStatus_MAX = FEDERATE_WAITING_FOR_FEDERATION_TO_SAVE;
+const int SaveStatus_ARRAYSIZE = SaveStatus_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* SaveStatus_descriptor();
+inline const ::std::string& SaveStatus_Name(SaveStatus value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    SaveStatus_descriptor(), value);
+}
+inline bool SaveStatus_Parse(
+    const ::std::string& name, SaveStatus* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<SaveStatus>(
+    SaveStatus_descriptor(), name, value);
+}
+enum RestoreFailureReason {
+  RTI_UNABLE_TO_RESTORE = 1,
+  FEDERATE_REPORTED_FAILURE_DURING_RESTORE = 2,
+  FEDERATE_RESIGNED_DURING_RESTORE = 3,
+  RTI_DETECTED_FAILURE_DURING_RESTORE = 4,
+  RESTORE_ABORTED = 5
+};
+bool RestoreFailureReason_IsValid(int value);
+const RestoreFailureReason RestoreFailureReason_MIN = RTI_UNABLE_TO_RESTORE;
+const RestoreFailureReason RestoreFailureReason_MAX = RESTORE_ABORTED;
+const int RestoreFailureReason_ARRAYSIZE = RestoreFailureReason_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* RestoreFailureReason_descriptor();
+inline const ::std::string& RestoreFailureReason_Name(RestoreFailureReason value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    RestoreFailureReason_descriptor(), value);
+}
+inline bool RestoreFailureReason_Parse(
+    const ::std::string& name, RestoreFailureReason* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<RestoreFailureReason>(
+    RestoreFailureReason_descriptor(), name, value);
+}
+enum RestoreStatus {
+  NO_RESTORE_IN_PROGRESS = 1,
+  FEDERATE_RESTORE_REQUEST_PENDING = 2,
+  FEDERATE_WAITING_FOR_RESTORE_TO_BEGIN = 3,
+  FEDERATE_PREPARED_TO_RESTORE = 4,
+  FEDERATE_RESTORING = 5,
+  FEDERATE_WAITING_FOR_FEDERATION_TO_RESTORE = 6
+};
+bool RestoreStatus_IsValid(int value);
+const RestoreStatus RestoreStatus_MIN = NO_RESTORE_IN_PROGRESS;
+const RestoreStatus RestoreStatus_MAX = FEDERATE_WAITING_FOR_FEDERATION_TO_RESTORE;
+const int RestoreStatus_ARRAYSIZE = RestoreStatus_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* RestoreStatus_descriptor();
+inline const ::std::string& RestoreStatus_Name(RestoreStatus value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    RestoreStatus_descriptor(), value);
+}
+inline bool RestoreStatus_Parse(
+    const ::std::string& name, RestoreStatus* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<RestoreStatus>(
+    RestoreStatus_descriptor(), name, value);
+}
+// ===================================================================
+
+class FDDUpdated : public ::google::protobuf::Message {
+ public:
+  FDDUpdated();
+  virtual ~FDDUpdated();
+
+  FDDUpdated(const FDDUpdated& from);
+
+  inline FDDUpdated& operator=(const FDDUpdated& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FDDUpdated& default_instance();
+
+  void Swap(FDDUpdated* other);
+
+  // implements Message ----------------------------------------------
+
+  FDDUpdated* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FDDUpdated& from);
+  void MergeFrom(const FDDUpdated& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.FDD fdd = 1;
+  inline bool has_fdd() const;
+  inline void clear_fdd();
+  static const int kFddFieldNumber = 1;
+  inline const ::ohla::rti::proto::FDD& fdd() const;
+  inline ::ohla::rti::proto::FDD* mutable_fdd();
+  inline ::ohla::rti::proto::FDD* release_fdd();
+  inline void set_allocated_fdd(::ohla::rti::proto::FDD* fdd);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FDDUpdated)
+ private:
+  inline void set_has_fdd();
+  inline void clear_has_fdd();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::FDD* fdd_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FDDUpdated* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class JoinFederationExecutionResponse_Success : public ::google::protobuf::Message {
+ public:
+  JoinFederationExecutionResponse_Success();
+  virtual ~JoinFederationExecutionResponse_Success();
+
+  JoinFederationExecutionResponse_Success(const JoinFederationExecutionResponse_Success& from);
+
+  inline JoinFederationExecutionResponse_Success& operator=(const JoinFederationExecutionResponse_Success& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const JoinFederationExecutionResponse_Success& default_instance();
+
+  void Swap(JoinFederationExecutionResponse_Success* other);
+
+  // implements Message ----------------------------------------------
+
+  JoinFederationExecutionResponse_Success* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const JoinFederationExecutionResponse_Success& from);
+  void MergeFrom(const JoinFederationExecutionResponse_Success& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string federateName = 1;
+  inline bool has_federatename() const;
+  inline void clear_federatename();
+  static const int kFederateNameFieldNumber = 1;
+  inline const ::std::string& federatename() const;
+  inline void set_federatename(const ::std::string& value);
+  inline void set_federatename(const char* value);
+  inline void set_federatename(const char* value, size_t size);
+  inline ::std::string* mutable_federatename();
+  inline ::std::string* release_federatename();
+  inline void set_allocated_federatename(::std::string* federatename);
+
+  // required uint32 federateHandle = 2;
+  inline bool has_federatehandle() const;
+  inline void clear_federatehandle();
+  static const int kFederateHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 federatehandle() const;
+  inline void set_federatehandle(::google::protobuf::uint32 value);
+
+  // required .ohla.rti.proto.FDD fdd = 3;
+  inline bool has_fdd() const;
+  inline void clear_fdd();
+  static const int kFddFieldNumber = 3;
+  inline const ::ohla::rti::proto::FDD& fdd() const;
+  inline ::ohla::rti::proto::FDD* mutable_fdd();
+  inline ::ohla::rti::proto::FDD* release_fdd();
+  inline void set_allocated_fdd(::ohla::rti::proto::FDD* fdd);
+
+  // required string logicalTimeImplementationName = 4;
+  inline bool has_logicaltimeimplementationname() const;
+  inline void clear_logicaltimeimplementationname();
+  static const int kLogicalTimeImplementationNameFieldNumber = 4;
+  inline const ::std::string& logicaltimeimplementationname() const;
+  inline void set_logicaltimeimplementationname(const ::std::string& value);
+  inline void set_logicaltimeimplementationname(const char* value);
+  inline void set_logicaltimeimplementationname(const char* value, size_t size);
+  inline ::std::string* mutable_logicaltimeimplementationname();
+  inline ::std::string* release_logicaltimeimplementationname();
+  inline void set_allocated_logicaltimeimplementationname(::std::string* logicaltimeimplementationname);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.JoinFederationExecutionResponse.Success)
+ private:
+  inline void set_has_federatename();
+  inline void clear_has_federatename();
+  inline void set_has_federatehandle();
+  inline void clear_has_federatehandle();
+  inline void set_has_fdd();
+  inline void clear_has_fdd();
+  inline void set_has_logicaltimeimplementationname();
+  inline void clear_has_logicaltimeimplementationname();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* federatename_;
+  ::ohla::rti::proto::FDD* fdd_;
+  ::std::string* logicaltimeimplementationname_;
+  ::google::protobuf::uint32 federatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static JoinFederationExecutionResponse_Success* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class JoinFederationExecutionResponse_Failure : public ::google::protobuf::Message {
+ public:
+  JoinFederationExecutionResponse_Failure();
+  virtual ~JoinFederationExecutionResponse_Failure();
+
+  JoinFederationExecutionResponse_Failure(const JoinFederationExecutionResponse_Failure& from);
+
+  inline JoinFederationExecutionResponse_Failure& operator=(const JoinFederationExecutionResponse_Failure& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const JoinFederationExecutionResponse_Failure& default_instance();
+
+  void Swap(JoinFederationExecutionResponse_Failure* other);
+
+  // implements Message ----------------------------------------------
+
+  JoinFederationExecutionResponse_Failure* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const JoinFederationExecutionResponse_Failure& from);
+  void MergeFrom(const JoinFederationExecutionResponse_Failure& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef JoinFederationExecutionResponse_Failure_Cause Cause;
+  static const Cause FEDERATE_NAME_ALREADY_IN_USE = JoinFederationExecutionResponse_Failure_Cause_FEDERATE_NAME_ALREADY_IN_USE;
+  static const Cause FEDERATION_EXECUTION_DOES_NOT_EXIST = JoinFederationExecutionResponse_Failure_Cause_FEDERATION_EXECUTION_DOES_NOT_EXIST;
+  static const Cause SAVE_IN_PROGRESS = JoinFederationExecutionResponse_Failure_Cause_SAVE_IN_PROGRESS;
+  static const Cause RESTORE_IN_PROGRESS = JoinFederationExecutionResponse_Failure_Cause_RESTORE_IN_PROGRESS;
+  static const Cause INCONSISTENT_FDD = JoinFederationExecutionResponse_Failure_Cause_INCONSISTENT_FDD;
+  static inline bool Cause_IsValid(int value) {
+    return JoinFederationExecutionResponse_Failure_Cause_IsValid(value);
+  }
+  static const Cause Cause_MIN =
+    JoinFederationExecutionResponse_Failure_Cause_Cause_MIN;
+  static const Cause Cause_MAX =
+    JoinFederationExecutionResponse_Failure_Cause_Cause_MAX;
+  static const int Cause_ARRAYSIZE =
+    JoinFederationExecutionResponse_Failure_Cause_Cause_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  Cause_descriptor() {
+    return JoinFederationExecutionResponse_Failure_Cause_descriptor();
+  }
+  static inline const ::std::string& Cause_Name(Cause value) {
+    return JoinFederationExecutionResponse_Failure_Cause_Name(value);
+  }
+  static inline bool Cause_Parse(const ::std::string& name,
+      Cause* value) {
+    return JoinFederationExecutionResponse_Failure_Cause_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.JoinFederationExecutionResponse.Failure.Cause cause = 1;
+  inline bool has_cause() const;
+  inline void clear_cause();
+  static const int kCauseFieldNumber = 1;
+  inline ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure_Cause cause() const;
+  inline void set_cause(::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure_Cause value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.JoinFederationExecutionResponse.Failure)
+ private:
+  inline void set_has_cause();
+  inline void clear_has_cause();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int cause_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static JoinFederationExecutionResponse_Failure* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class JoinFederationExecutionResponse : public ::google::protobuf::Message {
+ public:
+  JoinFederationExecutionResponse();
+  virtual ~JoinFederationExecutionResponse();
+
+  JoinFederationExecutionResponse(const JoinFederationExecutionResponse& from);
+
+  inline JoinFederationExecutionResponse& operator=(const JoinFederationExecutionResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const JoinFederationExecutionResponse& default_instance();
+
+  void Swap(JoinFederationExecutionResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  JoinFederationExecutionResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const JoinFederationExecutionResponse& from);
+  void MergeFrom(const JoinFederationExecutionResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef JoinFederationExecutionResponse_Success Success;
+  typedef JoinFederationExecutionResponse_Failure Failure;
+
+  // accessors -------------------------------------------------------
+
+  // optional .ohla.rti.messages.proto.JoinFederationExecutionResponse.Success success = 1;
+  inline bool has_success() const;
+  inline void clear_success();
+  static const int kSuccessFieldNumber = 1;
+  inline const ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success& success() const;
+  inline ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success* mutable_success();
+  inline ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success* release_success();
+  inline void set_allocated_success(::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success* success);
+
+  // optional .ohla.rti.messages.proto.JoinFederationExecutionResponse.Failure failure = 2;
+  inline bool has_failure() const;
+  inline void clear_failure();
+  static const int kFailureFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure& failure() const;
+  inline ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure* mutable_failure();
+  inline ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure* release_failure();
+  inline void set_allocated_failure(::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure* failure);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.JoinFederationExecutionResponse)
+ private:
+  inline void set_has_success();
+  inline void clear_has_success();
+  inline void set_has_failure();
+  inline void clear_has_failure();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success* success_;
+  ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure* failure_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static JoinFederationExecutionResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestFederationSaveResponse_Failure : public ::google::protobuf::Message {
+ public:
+  RequestFederationSaveResponse_Failure();
+  virtual ~RequestFederationSaveResponse_Failure();
+
+  RequestFederationSaveResponse_Failure(const RequestFederationSaveResponse_Failure& from);
+
+  inline RequestFederationSaveResponse_Failure& operator=(const RequestFederationSaveResponse_Failure& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestFederationSaveResponse_Failure& default_instance();
+
+  void Swap(RequestFederationSaveResponse_Failure* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestFederationSaveResponse_Failure* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestFederationSaveResponse_Failure& from);
+  void MergeFrom(const RequestFederationSaveResponse_Failure& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef RequestFederationSaveResponse_Failure_Cause Cause;
+  static const Cause LOGICAL_TIME_ALREADY_PASSED = RequestFederationSaveResponse_Failure_Cause_LOGICAL_TIME_ALREADY_PASSED;
+  static const Cause FEDERATE_UNABLE_TO_USE_TIME = RequestFederationSaveResponse_Failure_Cause_FEDERATE_UNABLE_TO_USE_TIME;
+  static const Cause SAVE_IN_PROGRESS = RequestFederationSaveResponse_Failure_Cause_SAVE_IN_PROGRESS;
+  static const Cause RESTORE_IN_PROGRESS = RequestFederationSaveResponse_Failure_Cause_RESTORE_IN_PROGRESS;
+  static const Cause RTI_INTERNAL_ERROR = RequestFederationSaveResponse_Failure_Cause_RTI_INTERNAL_ERROR;
+  static inline bool Cause_IsValid(int value) {
+    return RequestFederationSaveResponse_Failure_Cause_IsValid(value);
+  }
+  static const Cause Cause_MIN =
+    RequestFederationSaveResponse_Failure_Cause_Cause_MIN;
+  static const Cause Cause_MAX =
+    RequestFederationSaveResponse_Failure_Cause_Cause_MAX;
+  static const int Cause_ARRAYSIZE =
+    RequestFederationSaveResponse_Failure_Cause_Cause_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  Cause_descriptor() {
+    return RequestFederationSaveResponse_Failure_Cause_descriptor();
+  }
+  static inline const ::std::string& Cause_Name(Cause value) {
+    return RequestFederationSaveResponse_Failure_Cause_Name(value);
+  }
+  static inline bool Cause_Parse(const ::std::string& name,
+      Cause* value) {
+    return RequestFederationSaveResponse_Failure_Cause_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.RequestFederationSaveResponse.Failure.Cause cause = 1;
+  inline bool has_cause() const;
+  inline void clear_cause();
+  static const int kCauseFieldNumber = 1;
+  inline ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure_Cause cause() const;
+  inline void set_cause(::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure_Cause value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestFederationSaveResponse.Failure)
+ private:
+  inline void set_has_cause();
+  inline void clear_has_cause();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int cause_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestFederationSaveResponse_Failure* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestFederationSaveResponse : public ::google::protobuf::Message {
+ public:
+  RequestFederationSaveResponse();
+  virtual ~RequestFederationSaveResponse();
+
+  RequestFederationSaveResponse(const RequestFederationSaveResponse& from);
+
+  inline RequestFederationSaveResponse& operator=(const RequestFederationSaveResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestFederationSaveResponse& default_instance();
+
+  void Swap(RequestFederationSaveResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestFederationSaveResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestFederationSaveResponse& from);
+  void MergeFrom(const RequestFederationSaveResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef RequestFederationSaveResponse_Failure Failure;
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // optional .ohla.rti.messages.proto.RequestFederationSaveResponse.Failure failure = 2;
+  inline bool has_failure() const;
+  inline void clear_failure();
+  static const int kFailureFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure& failure() const;
+  inline ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure* mutable_failure();
+  inline ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure* release_failure();
+  inline void set_allocated_failure(::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure* failure);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestFederationSaveResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_failure();
+  inline void clear_has_failure();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure* failure_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestFederationSaveResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AbortFederationSaveResponse_Failure : public ::google::protobuf::Message {
+ public:
+  AbortFederationSaveResponse_Failure();
+  virtual ~AbortFederationSaveResponse_Failure();
+
+  AbortFederationSaveResponse_Failure(const AbortFederationSaveResponse_Failure& from);
+
+  inline AbortFederationSaveResponse_Failure& operator=(const AbortFederationSaveResponse_Failure& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AbortFederationSaveResponse_Failure& default_instance();
+
+  void Swap(AbortFederationSaveResponse_Failure* other);
+
+  // implements Message ----------------------------------------------
+
+  AbortFederationSaveResponse_Failure* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AbortFederationSaveResponse_Failure& from);
+  void MergeFrom(const AbortFederationSaveResponse_Failure& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef AbortFederationSaveResponse_Failure_Cause Cause;
+  static const Cause SAVE_NOT_IN_PROGRESS = AbortFederationSaveResponse_Failure_Cause_SAVE_NOT_IN_PROGRESS;
+  static inline bool Cause_IsValid(int value) {
+    return AbortFederationSaveResponse_Failure_Cause_IsValid(value);
+  }
+  static const Cause Cause_MIN =
+    AbortFederationSaveResponse_Failure_Cause_Cause_MIN;
+  static const Cause Cause_MAX =
+    AbortFederationSaveResponse_Failure_Cause_Cause_MAX;
+  static const int Cause_ARRAYSIZE =
+    AbortFederationSaveResponse_Failure_Cause_Cause_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  Cause_descriptor() {
+    return AbortFederationSaveResponse_Failure_Cause_descriptor();
+  }
+  static inline const ::std::string& Cause_Name(Cause value) {
+    return AbortFederationSaveResponse_Failure_Cause_Name(value);
+  }
+  static inline bool Cause_Parse(const ::std::string& name,
+      Cause* value) {
+    return AbortFederationSaveResponse_Failure_Cause_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.AbortFederationSaveResponse.Failure.Cause cause = 1;
+  inline bool has_cause() const;
+  inline void clear_cause();
+  static const int kCauseFieldNumber = 1;
+  inline ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure_Cause cause() const;
+  inline void set_cause(::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure_Cause value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AbortFederationSaveResponse.Failure)
+ private:
+  inline void set_has_cause();
+  inline void clear_has_cause();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int cause_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AbortFederationSaveResponse_Failure* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AbortFederationSaveResponse : public ::google::protobuf::Message {
+ public:
+  AbortFederationSaveResponse();
+  virtual ~AbortFederationSaveResponse();
+
+  AbortFederationSaveResponse(const AbortFederationSaveResponse& from);
+
+  inline AbortFederationSaveResponse& operator=(const AbortFederationSaveResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AbortFederationSaveResponse& default_instance();
+
+  void Swap(AbortFederationSaveResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  AbortFederationSaveResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AbortFederationSaveResponse& from);
+  void MergeFrom(const AbortFederationSaveResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef AbortFederationSaveResponse_Failure Failure;
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // optional .ohla.rti.messages.proto.AbortFederationSaveResponse.Failure failure = 2;
+  inline bool has_failure() const;
+  inline void clear_failure();
+  static const int kFailureFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure& failure() const;
+  inline ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure* mutable_failure();
+  inline ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure* release_failure();
+  inline void set_allocated_failure(::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure* failure);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AbortFederationSaveResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_failure();
+  inline void clear_has_failure();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure* failure_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AbortFederationSaveResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestFederationRestoreResponse_Failure : public ::google::protobuf::Message {
+ public:
+  RequestFederationRestoreResponse_Failure();
+  virtual ~RequestFederationRestoreResponse_Failure();
+
+  RequestFederationRestoreResponse_Failure(const RequestFederationRestoreResponse_Failure& from);
+
+  inline RequestFederationRestoreResponse_Failure& operator=(const RequestFederationRestoreResponse_Failure& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestFederationRestoreResponse_Failure& default_instance();
+
+  void Swap(RequestFederationRestoreResponse_Failure* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestFederationRestoreResponse_Failure* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestFederationRestoreResponse_Failure& from);
+  void MergeFrom(const RequestFederationRestoreResponse_Failure& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef RequestFederationRestoreResponse_Failure_Cause Cause;
+  static const Cause SAVE_IN_PROGRESS = RequestFederationRestoreResponse_Failure_Cause_SAVE_IN_PROGRESS;
+  static const Cause RESTORE_IN_PROGRESS = RequestFederationRestoreResponse_Failure_Cause_RESTORE_IN_PROGRESS;
+  static const Cause RTI_INTERNAL_ERROR = RequestFederationRestoreResponse_Failure_Cause_RTI_INTERNAL_ERROR;
+  static inline bool Cause_IsValid(int value) {
+    return RequestFederationRestoreResponse_Failure_Cause_IsValid(value);
+  }
+  static const Cause Cause_MIN =
+    RequestFederationRestoreResponse_Failure_Cause_Cause_MIN;
+  static const Cause Cause_MAX =
+    RequestFederationRestoreResponse_Failure_Cause_Cause_MAX;
+  static const int Cause_ARRAYSIZE =
+    RequestFederationRestoreResponse_Failure_Cause_Cause_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  Cause_descriptor() {
+    return RequestFederationRestoreResponse_Failure_Cause_descriptor();
+  }
+  static inline const ::std::string& Cause_Name(Cause value) {
+    return RequestFederationRestoreResponse_Failure_Cause_Name(value);
+  }
+  static inline bool Cause_Parse(const ::std::string& name,
+      Cause* value) {
+    return RequestFederationRestoreResponse_Failure_Cause_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.RequestFederationRestoreResponse.Failure.Cause cause = 1;
+  inline bool has_cause() const;
+  inline void clear_cause();
+  static const int kCauseFieldNumber = 1;
+  inline ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure_Cause cause() const;
+  inline void set_cause(::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure_Cause value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestFederationRestoreResponse.Failure)
+ private:
+  inline void set_has_cause();
+  inline void clear_has_cause();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int cause_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestFederationRestoreResponse_Failure* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestFederationRestoreResponse : public ::google::protobuf::Message {
+ public:
+  RequestFederationRestoreResponse();
+  virtual ~RequestFederationRestoreResponse();
+
+  RequestFederationRestoreResponse(const RequestFederationRestoreResponse& from);
+
+  inline RequestFederationRestoreResponse& operator=(const RequestFederationRestoreResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestFederationRestoreResponse& default_instance();
+
+  void Swap(RequestFederationRestoreResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestFederationRestoreResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestFederationRestoreResponse& from);
+  void MergeFrom(const RequestFederationRestoreResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef RequestFederationRestoreResponse_Failure Failure;
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // optional .ohla.rti.messages.proto.RequestFederationRestoreResponse.Failure failure = 2;
+  inline bool has_failure() const;
+  inline void clear_failure();
+  static const int kFailureFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure& failure() const;
+  inline ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure* mutable_failure();
+  inline ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure* release_failure();
+  inline void set_allocated_failure(::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure* failure);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestFederationRestoreResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_failure();
+  inline void clear_has_failure();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure* failure_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestFederationRestoreResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AbortFederationRestoreResponse_Failure : public ::google::protobuf::Message {
+ public:
+  AbortFederationRestoreResponse_Failure();
+  virtual ~AbortFederationRestoreResponse_Failure();
+
+  AbortFederationRestoreResponse_Failure(const AbortFederationRestoreResponse_Failure& from);
+
+  inline AbortFederationRestoreResponse_Failure& operator=(const AbortFederationRestoreResponse_Failure& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AbortFederationRestoreResponse_Failure& default_instance();
+
+  void Swap(AbortFederationRestoreResponse_Failure* other);
+
+  // implements Message ----------------------------------------------
+
+  AbortFederationRestoreResponse_Failure* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AbortFederationRestoreResponse_Failure& from);
+  void MergeFrom(const AbortFederationRestoreResponse_Failure& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef AbortFederationRestoreResponse_Failure_Cause Cause;
+  static const Cause RESTORE_NOT_IN_PROGRESS = AbortFederationRestoreResponse_Failure_Cause_RESTORE_NOT_IN_PROGRESS;
+  static inline bool Cause_IsValid(int value) {
+    return AbortFederationRestoreResponse_Failure_Cause_IsValid(value);
+  }
+  static const Cause Cause_MIN =
+    AbortFederationRestoreResponse_Failure_Cause_Cause_MIN;
+  static const Cause Cause_MAX =
+    AbortFederationRestoreResponse_Failure_Cause_Cause_MAX;
+  static const int Cause_ARRAYSIZE =
+    AbortFederationRestoreResponse_Failure_Cause_Cause_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  Cause_descriptor() {
+    return AbortFederationRestoreResponse_Failure_Cause_descriptor();
+  }
+  static inline const ::std::string& Cause_Name(Cause value) {
+    return AbortFederationRestoreResponse_Failure_Cause_Name(value);
+  }
+  static inline bool Cause_Parse(const ::std::string& name,
+      Cause* value) {
+    return AbortFederationRestoreResponse_Failure_Cause_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.AbortFederationRestoreResponse.Failure.Cause cause = 1;
+  inline bool has_cause() const;
+  inline void clear_cause();
+  static const int kCauseFieldNumber = 1;
+  inline ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure_Cause cause() const;
+  inline void set_cause(::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure_Cause value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AbortFederationRestoreResponse.Failure)
+ private:
+  inline void set_has_cause();
+  inline void clear_has_cause();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int cause_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AbortFederationRestoreResponse_Failure* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AbortFederationRestoreResponse : public ::google::protobuf::Message {
+ public:
+  AbortFederationRestoreResponse();
+  virtual ~AbortFederationRestoreResponse();
+
+  AbortFederationRestoreResponse(const AbortFederationRestoreResponse& from);
+
+  inline AbortFederationRestoreResponse& operator=(const AbortFederationRestoreResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AbortFederationRestoreResponse& default_instance();
+
+  void Swap(AbortFederationRestoreResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  AbortFederationRestoreResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AbortFederationRestoreResponse& from);
+  void MergeFrom(const AbortFederationRestoreResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef AbortFederationRestoreResponse_Failure Failure;
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // optional .ohla.rti.messages.proto.AbortFederationRestoreResponse.Failure failure = 2;
+  inline bool has_failure() const;
+  inline void clear_failure();
+  static const int kFailureFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure& failure() const;
+  inline ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure* mutable_failure();
+  inline ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure* release_failure();
+  inline void set_allocated_failure(::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure* failure);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AbortFederationRestoreResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_failure();
+  inline void clear_has_failure();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure* failure_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AbortFederationRestoreResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ObjectInstanceNameReservationSucceeded : public ::google::protobuf::Message {
+ public:
+  ObjectInstanceNameReservationSucceeded();
+  virtual ~ObjectInstanceNameReservationSucceeded();
+
+  ObjectInstanceNameReservationSucceeded(const ObjectInstanceNameReservationSucceeded& from);
+
+  inline ObjectInstanceNameReservationSucceeded& operator=(const ObjectInstanceNameReservationSucceeded& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ObjectInstanceNameReservationSucceeded& default_instance();
+
+  void Swap(ObjectInstanceNameReservationSucceeded* other);
+
+  // implements Message ----------------------------------------------
+
+  ObjectInstanceNameReservationSucceeded* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ObjectInstanceNameReservationSucceeded& from);
+  void MergeFrom(const ObjectInstanceNameReservationSucceeded& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string objectInstanceName = 1;
+  inline bool has_objectinstancename() const;
+  inline void clear_objectinstancename();
+  static const int kObjectInstanceNameFieldNumber = 1;
+  inline const ::std::string& objectinstancename() const;
+  inline void set_objectinstancename(const ::std::string& value);
+  inline void set_objectinstancename(const char* value);
+  inline void set_objectinstancename(const char* value, size_t size);
+  inline ::std::string* mutable_objectinstancename();
+  inline ::std::string* release_objectinstancename();
+  inline void set_allocated_objectinstancename(::std::string* objectinstancename);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ObjectInstanceNameReservationSucceeded)
+ private:
+  inline void set_has_objectinstancename();
+  inline void clear_has_objectinstancename();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* objectinstancename_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ObjectInstanceNameReservationSucceeded* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ObjectInstanceNameReservationFailed : public ::google::protobuf::Message {
+ public:
+  ObjectInstanceNameReservationFailed();
+  virtual ~ObjectInstanceNameReservationFailed();
+
+  ObjectInstanceNameReservationFailed(const ObjectInstanceNameReservationFailed& from);
+
+  inline ObjectInstanceNameReservationFailed& operator=(const ObjectInstanceNameReservationFailed& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ObjectInstanceNameReservationFailed& default_instance();
+
+  void Swap(ObjectInstanceNameReservationFailed* other);
+
+  // implements Message ----------------------------------------------
+
+  ObjectInstanceNameReservationFailed* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ObjectInstanceNameReservationFailed& from);
+  void MergeFrom(const ObjectInstanceNameReservationFailed& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string objectInstanceName = 1;
+  inline bool has_objectinstancename() const;
+  inline void clear_objectinstancename();
+  static const int kObjectInstanceNameFieldNumber = 1;
+  inline const ::std::string& objectinstancename() const;
+  inline void set_objectinstancename(const ::std::string& value);
+  inline void set_objectinstancename(const char* value);
+  inline void set_objectinstancename(const char* value, size_t size);
+  inline ::std::string* mutable_objectinstancename();
+  inline ::std::string* release_objectinstancename();
+  inline void set_allocated_objectinstancename(::std::string* objectinstancename);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ObjectInstanceNameReservationFailed)
+ private:
+  inline void set_has_objectinstancename();
+  inline void clear_has_objectinstancename();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* objectinstancename_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ObjectInstanceNameReservationFailed* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class MultipleObjectInstanceNameReservationSucceeded : public ::google::protobuf::Message {
+ public:
+  MultipleObjectInstanceNameReservationSucceeded();
+  virtual ~MultipleObjectInstanceNameReservationSucceeded();
+
+  MultipleObjectInstanceNameReservationSucceeded(const MultipleObjectInstanceNameReservationSucceeded& from);
+
+  inline MultipleObjectInstanceNameReservationSucceeded& operator=(const MultipleObjectInstanceNameReservationSucceeded& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const MultipleObjectInstanceNameReservationSucceeded& default_instance();
+
+  void Swap(MultipleObjectInstanceNameReservationSucceeded* other);
+
+  // implements Message ----------------------------------------------
+
+  MultipleObjectInstanceNameReservationSucceeded* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const MultipleObjectInstanceNameReservationSucceeded& from);
+  void MergeFrom(const MultipleObjectInstanceNameReservationSucceeded& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated string objectInstanceNames = 1;
+  inline int objectinstancenames_size() const;
+  inline void clear_objectinstancenames();
+  static const int kObjectInstanceNamesFieldNumber = 1;
+  inline const ::std::string& objectinstancenames(int index) const;
+  inline ::std::string* mutable_objectinstancenames(int index);
+  inline void set_objectinstancenames(int index, const ::std::string& value);
+  inline void set_objectinstancenames(int index, const char* value);
+  inline void set_objectinstancenames(int index, const char* value, size_t size);
+  inline ::std::string* add_objectinstancenames();
+  inline void add_objectinstancenames(const ::std::string& value);
+  inline void add_objectinstancenames(const char* value);
+  inline void add_objectinstancenames(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& objectinstancenames() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_objectinstancenames();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.MultipleObjectInstanceNameReservationSucceeded)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::std::string> objectinstancenames_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static MultipleObjectInstanceNameReservationSucceeded* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class MultipleObjectInstanceNameReservationFailed : public ::google::protobuf::Message {
+ public:
+  MultipleObjectInstanceNameReservationFailed();
+  virtual ~MultipleObjectInstanceNameReservationFailed();
+
+  MultipleObjectInstanceNameReservationFailed(const MultipleObjectInstanceNameReservationFailed& from);
+
+  inline MultipleObjectInstanceNameReservationFailed& operator=(const MultipleObjectInstanceNameReservationFailed& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const MultipleObjectInstanceNameReservationFailed& default_instance();
+
+  void Swap(MultipleObjectInstanceNameReservationFailed* other);
+
+  // implements Message ----------------------------------------------
+
+  MultipleObjectInstanceNameReservationFailed* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const MultipleObjectInstanceNameReservationFailed& from);
+  void MergeFrom(const MultipleObjectInstanceNameReservationFailed& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated string objectInstanceNames = 1;
+  inline int objectinstancenames_size() const;
+  inline void clear_objectinstancenames();
+  static const int kObjectInstanceNamesFieldNumber = 1;
+  inline const ::std::string& objectinstancenames(int index) const;
+  inline ::std::string* mutable_objectinstancenames(int index);
+  inline void set_objectinstancenames(int index, const ::std::string& value);
+  inline void set_objectinstancenames(int index, const char* value);
+  inline void set_objectinstancenames(int index, const char* value, size_t size);
+  inline ::std::string* add_objectinstancenames();
+  inline void add_objectinstancenames(const ::std::string& value);
+  inline void add_objectinstancenames(const char* value);
+  inline void add_objectinstancenames(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& objectinstancenames() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_objectinstancenames();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.MultipleObjectInstanceNameReservationFailed)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::std::string> objectinstancenames_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static MultipleObjectInstanceNameReservationFailed* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ReportInteractionTransportationType : public ::google::protobuf::Message {
+ public:
+  ReportInteractionTransportationType();
+  virtual ~ReportInteractionTransportationType();
+
+  ReportInteractionTransportationType(const ReportInteractionTransportationType& from);
+
+  inline ReportInteractionTransportationType& operator=(const ReportInteractionTransportationType& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ReportInteractionTransportationType& default_instance();
+
+  void Swap(ReportInteractionTransportationType* other);
+
+  // implements Message ----------------------------------------------
+
+  ReportInteractionTransportationType* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ReportInteractionTransportationType& from);
+  void MergeFrom(const ReportInteractionTransportationType& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 interactionClassHandle = 1;
+  inline bool has_interactionclasshandle() const;
+  inline void clear_interactionclasshandle();
+  static const int kInteractionClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 interactionclasshandle() const;
+  inline void set_interactionclasshandle(::google::protobuf::uint32 value);
+
+  // required uint32 federateHandle = 2;
+  inline bool has_federatehandle() const;
+  inline void clear_federatehandle();
+  static const int kFederateHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 federatehandle() const;
+  inline void set_federatehandle(::google::protobuf::uint32 value);
+
+  // required uint32 transportationTypeHandle = 3;
+  inline bool has_transportationtypehandle() const;
+  inline void clear_transportationtypehandle();
+  static const int kTransportationTypeHandleFieldNumber = 3;
+  inline ::google::protobuf::uint32 transportationtypehandle() const;
+  inline void set_transportationtypehandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ReportInteractionTransportationType)
+ private:
+  inline void set_has_interactionclasshandle();
+  inline void clear_has_interactionclasshandle();
+  inline void set_has_federatehandle();
+  inline void clear_has_federatehandle();
+  inline void set_has_transportationtypehandle();
+  inline void clear_has_transportationtypehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 interactionclasshandle_;
+  ::google::protobuf::uint32 federatehandle_;
+  ::google::protobuf::uint32 transportationtypehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ReportInteractionTransportationType* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class GetFederateHandleResponse_Success : public ::google::protobuf::Message {
+ public:
+  GetFederateHandleResponse_Success();
+  virtual ~GetFederateHandleResponse_Success();
+
+  GetFederateHandleResponse_Success(const GetFederateHandleResponse_Success& from);
+
+  inline GetFederateHandleResponse_Success& operator=(const GetFederateHandleResponse_Success& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const GetFederateHandleResponse_Success& default_instance();
+
+  void Swap(GetFederateHandleResponse_Success* other);
+
+  // implements Message ----------------------------------------------
+
+  GetFederateHandleResponse_Success* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const GetFederateHandleResponse_Success& from);
+  void MergeFrom(const GetFederateHandleResponse_Success& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 federateHandle = 1;
+  inline bool has_federatehandle() const;
+  inline void clear_federatehandle();
+  static const int kFederateHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 federatehandle() const;
+  inline void set_federatehandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.GetFederateHandleResponse.Success)
+ private:
+  inline void set_has_federatehandle();
+  inline void clear_has_federatehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 federatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static GetFederateHandleResponse_Success* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class GetFederateHandleResponse_Failure : public ::google::protobuf::Message {
+ public:
+  GetFederateHandleResponse_Failure();
+  virtual ~GetFederateHandleResponse_Failure();
+
+  GetFederateHandleResponse_Failure(const GetFederateHandleResponse_Failure& from);
+
+  inline GetFederateHandleResponse_Failure& operator=(const GetFederateHandleResponse_Failure& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const GetFederateHandleResponse_Failure& default_instance();
+
+  void Swap(GetFederateHandleResponse_Failure* other);
+
+  // implements Message ----------------------------------------------
+
+  GetFederateHandleResponse_Failure* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const GetFederateHandleResponse_Failure& from);
+  void MergeFrom(const GetFederateHandleResponse_Failure& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef GetFederateHandleResponse_Failure_Cause Cause;
+  static const Cause NAME_NOT_FOUND = GetFederateHandleResponse_Failure_Cause_NAME_NOT_FOUND;
+  static inline bool Cause_IsValid(int value) {
+    return GetFederateHandleResponse_Failure_Cause_IsValid(value);
+  }
+  static const Cause Cause_MIN =
+    GetFederateHandleResponse_Failure_Cause_Cause_MIN;
+  static const Cause Cause_MAX =
+    GetFederateHandleResponse_Failure_Cause_Cause_MAX;
+  static const int Cause_ARRAYSIZE =
+    GetFederateHandleResponse_Failure_Cause_Cause_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  Cause_descriptor() {
+    return GetFederateHandleResponse_Failure_Cause_descriptor();
+  }
+  static inline const ::std::string& Cause_Name(Cause value) {
+    return GetFederateHandleResponse_Failure_Cause_Name(value);
+  }
+  static inline bool Cause_Parse(const ::std::string& name,
+      Cause* value) {
+    return GetFederateHandleResponse_Failure_Cause_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.GetFederateHandleResponse.Failure.Cause cause = 1;
+  inline bool has_cause() const;
+  inline void clear_cause();
+  static const int kCauseFieldNumber = 1;
+  inline ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure_Cause cause() const;
+  inline void set_cause(::ohla::rti::messages::proto::GetFederateHandleResponse_Failure_Cause value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.GetFederateHandleResponse.Failure)
+ private:
+  inline void set_has_cause();
+  inline void clear_has_cause();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int cause_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static GetFederateHandleResponse_Failure* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class GetFederateHandleResponse : public ::google::protobuf::Message {
+ public:
+  GetFederateHandleResponse();
+  virtual ~GetFederateHandleResponse();
+
+  GetFederateHandleResponse(const GetFederateHandleResponse& from);
+
+  inline GetFederateHandleResponse& operator=(const GetFederateHandleResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const GetFederateHandleResponse& default_instance();
+
+  void Swap(GetFederateHandleResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  GetFederateHandleResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const GetFederateHandleResponse& from);
+  void MergeFrom(const GetFederateHandleResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef GetFederateHandleResponse_Success Success;
+  typedef GetFederateHandleResponse_Failure Failure;
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // optional .ohla.rti.messages.proto.GetFederateHandleResponse.Success success = 2;
+  inline bool has_success() const;
+  inline void clear_success();
+  static const int kSuccessFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::GetFederateHandleResponse_Success& success() const;
+  inline ::ohla::rti::messages::proto::GetFederateHandleResponse_Success* mutable_success();
+  inline ::ohla::rti::messages::proto::GetFederateHandleResponse_Success* release_success();
+  inline void set_allocated_success(::ohla::rti::messages::proto::GetFederateHandleResponse_Success* success);
+
+  // optional .ohla.rti.messages.proto.GetFederateHandleResponse.Failure failure = 3;
+  inline bool has_failure() const;
+  inline void clear_failure();
+  static const int kFailureFieldNumber = 3;
+  inline const ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure& failure() const;
+  inline ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure* mutable_failure();
+  inline ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure* release_failure();
+  inline void set_allocated_failure(::ohla::rti::messages::proto::GetFederateHandleResponse_Failure* failure);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.GetFederateHandleResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_success();
+  inline void clear_has_success();
+  inline void set_has_failure();
+  inline void clear_has_failure();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::messages::proto::GetFederateHandleResponse_Success* success_;
+  ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure* failure_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static GetFederateHandleResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class GetFederateNameResponse_Success : public ::google::protobuf::Message {
+ public:
+  GetFederateNameResponse_Success();
+  virtual ~GetFederateNameResponse_Success();
+
+  GetFederateNameResponse_Success(const GetFederateNameResponse_Success& from);
+
+  inline GetFederateNameResponse_Success& operator=(const GetFederateNameResponse_Success& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const GetFederateNameResponse_Success& default_instance();
+
+  void Swap(GetFederateNameResponse_Success* other);
+
+  // implements Message ----------------------------------------------
+
+  GetFederateNameResponse_Success* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const GetFederateNameResponse_Success& from);
+  void MergeFrom(const GetFederateNameResponse_Success& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string federateName = 1;
+  inline bool has_federatename() const;
+  inline void clear_federatename();
+  static const int kFederateNameFieldNumber = 1;
+  inline const ::std::string& federatename() const;
+  inline void set_federatename(const ::std::string& value);
+  inline void set_federatename(const char* value);
+  inline void set_federatename(const char* value, size_t size);
+  inline ::std::string* mutable_federatename();
+  inline ::std::string* release_federatename();
+  inline void set_allocated_federatename(::std::string* federatename);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.GetFederateNameResponse.Success)
+ private:
+  inline void set_has_federatename();
+  inline void clear_has_federatename();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* federatename_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static GetFederateNameResponse_Success* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class GetFederateNameResponse_Failure : public ::google::protobuf::Message {
+ public:
+  GetFederateNameResponse_Failure();
+  virtual ~GetFederateNameResponse_Failure();
+
+  GetFederateNameResponse_Failure(const GetFederateNameResponse_Failure& from);
+
+  inline GetFederateNameResponse_Failure& operator=(const GetFederateNameResponse_Failure& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const GetFederateNameResponse_Failure& default_instance();
+
+  void Swap(GetFederateNameResponse_Failure* other);
+
+  // implements Message ----------------------------------------------
+
+  GetFederateNameResponse_Failure* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const GetFederateNameResponse_Failure& from);
+  void MergeFrom(const GetFederateNameResponse_Failure& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef GetFederateNameResponse_Failure_Cause Cause;
+  static const Cause FEDERATE_HANDLE_NOT_KNOWN = GetFederateNameResponse_Failure_Cause_FEDERATE_HANDLE_NOT_KNOWN;
+  static inline bool Cause_IsValid(int value) {
+    return GetFederateNameResponse_Failure_Cause_IsValid(value);
+  }
+  static const Cause Cause_MIN =
+    GetFederateNameResponse_Failure_Cause_Cause_MIN;
+  static const Cause Cause_MAX =
+    GetFederateNameResponse_Failure_Cause_Cause_MAX;
+  static const int Cause_ARRAYSIZE =
+    GetFederateNameResponse_Failure_Cause_Cause_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  Cause_descriptor() {
+    return GetFederateNameResponse_Failure_Cause_descriptor();
+  }
+  static inline const ::std::string& Cause_Name(Cause value) {
+    return GetFederateNameResponse_Failure_Cause_Name(value);
+  }
+  static inline bool Cause_Parse(const ::std::string& name,
+      Cause* value) {
+    return GetFederateNameResponse_Failure_Cause_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.GetFederateNameResponse.Failure.Cause cause = 1;
+  inline bool has_cause() const;
+  inline void clear_cause();
+  static const int kCauseFieldNumber = 1;
+  inline ::ohla::rti::messages::proto::GetFederateNameResponse_Failure_Cause cause() const;
+  inline void set_cause(::ohla::rti::messages::proto::GetFederateNameResponse_Failure_Cause value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.GetFederateNameResponse.Failure)
+ private:
+  inline void set_has_cause();
+  inline void clear_has_cause();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int cause_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static GetFederateNameResponse_Failure* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class GetFederateNameResponse : public ::google::protobuf::Message {
+ public:
+  GetFederateNameResponse();
+  virtual ~GetFederateNameResponse();
+
+  GetFederateNameResponse(const GetFederateNameResponse& from);
+
+  inline GetFederateNameResponse& operator=(const GetFederateNameResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const GetFederateNameResponse& default_instance();
+
+  void Swap(GetFederateNameResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  GetFederateNameResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const GetFederateNameResponse& from);
+  void MergeFrom(const GetFederateNameResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef GetFederateNameResponse_Success Success;
+  typedef GetFederateNameResponse_Failure Failure;
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // optional .ohla.rti.messages.proto.GetFederateNameResponse.Success success = 2;
+  inline bool has_success() const;
+  inline void clear_success();
+  static const int kSuccessFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::GetFederateNameResponse_Success& success() const;
+  inline ::ohla::rti::messages::proto::GetFederateNameResponse_Success* mutable_success();
+  inline ::ohla::rti::messages::proto::GetFederateNameResponse_Success* release_success();
+  inline void set_allocated_success(::ohla::rti::messages::proto::GetFederateNameResponse_Success* success);
+
+  // optional .ohla.rti.messages.proto.GetFederateNameResponse.Failure failure = 3;
+  inline bool has_failure() const;
+  inline void clear_failure();
+  static const int kFailureFieldNumber = 3;
+  inline const ::ohla::rti::messages::proto::GetFederateNameResponse_Failure& failure() const;
+  inline ::ohla::rti::messages::proto::GetFederateNameResponse_Failure* mutable_failure();
+  inline ::ohla::rti::messages::proto::GetFederateNameResponse_Failure* release_failure();
+  inline void set_allocated_failure(::ohla::rti::messages::proto::GetFederateNameResponse_Failure* failure);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.GetFederateNameResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_success();
+  inline void clear_has_success();
+  inline void set_has_failure();
+  inline void clear_has_failure();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::messages::proto::GetFederateNameResponse_Success* success_;
+  ::ohla::rti::messages::proto::GetFederateNameResponse_Failure* failure_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static GetFederateNameResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class GetUpdateRateValueForAttributeResponse_Success : public ::google::protobuf::Message {
+ public:
+  GetUpdateRateValueForAttributeResponse_Success();
+  virtual ~GetUpdateRateValueForAttributeResponse_Success();
+
+  GetUpdateRateValueForAttributeResponse_Success(const GetUpdateRateValueForAttributeResponse_Success& from);
+
+  inline GetUpdateRateValueForAttributeResponse_Success& operator=(const GetUpdateRateValueForAttributeResponse_Success& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const GetUpdateRateValueForAttributeResponse_Success& default_instance();
+
+  void Swap(GetUpdateRateValueForAttributeResponse_Success* other);
+
+  // implements Message ----------------------------------------------
+
+  GetUpdateRateValueForAttributeResponse_Success* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const GetUpdateRateValueForAttributeResponse_Success& from);
+  void MergeFrom(const GetUpdateRateValueForAttributeResponse_Success& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required double updateRate = 1;
+  inline bool has_updaterate() const;
+  inline void clear_updaterate();
+  static const int kUpdateRateFieldNumber = 1;
+  inline double updaterate() const;
+  inline void set_updaterate(double value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Success)
+ private:
+  inline void set_has_updaterate();
+  inline void clear_has_updaterate();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  double updaterate_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static GetUpdateRateValueForAttributeResponse_Success* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class GetUpdateRateValueForAttributeResponse_Failure : public ::google::protobuf::Message {
+ public:
+  GetUpdateRateValueForAttributeResponse_Failure();
+  virtual ~GetUpdateRateValueForAttributeResponse_Failure();
+
+  GetUpdateRateValueForAttributeResponse_Failure(const GetUpdateRateValueForAttributeResponse_Failure& from);
+
+  inline GetUpdateRateValueForAttributeResponse_Failure& operator=(const GetUpdateRateValueForAttributeResponse_Failure& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const GetUpdateRateValueForAttributeResponse_Failure& default_instance();
+
+  void Swap(GetUpdateRateValueForAttributeResponse_Failure* other);
+
+  // implements Message ----------------------------------------------
+
+  GetUpdateRateValueForAttributeResponse_Failure* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const GetUpdateRateValueForAttributeResponse_Failure& from);
+  void MergeFrom(const GetUpdateRateValueForAttributeResponse_Failure& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef GetUpdateRateValueForAttributeResponse_Failure_Cause Cause;
+  static const Cause OBJECT_INSTANCE_NOT_KNOWN = GetUpdateRateValueForAttributeResponse_Failure_Cause_OBJECT_INSTANCE_NOT_KNOWN;
+  static inline bool Cause_IsValid(int value) {
+    return GetUpdateRateValueForAttributeResponse_Failure_Cause_IsValid(value);
+  }
+  static const Cause Cause_MIN =
+    GetUpdateRateValueForAttributeResponse_Failure_Cause_Cause_MIN;
+  static const Cause Cause_MAX =
+    GetUpdateRateValueForAttributeResponse_Failure_Cause_Cause_MAX;
+  static const int Cause_ARRAYSIZE =
+    GetUpdateRateValueForAttributeResponse_Failure_Cause_Cause_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  Cause_descriptor() {
+    return GetUpdateRateValueForAttributeResponse_Failure_Cause_descriptor();
+  }
+  static inline const ::std::string& Cause_Name(Cause value) {
+    return GetUpdateRateValueForAttributeResponse_Failure_Cause_Name(value);
+  }
+  static inline bool Cause_Parse(const ::std::string& name,
+      Cause* value) {
+    return GetUpdateRateValueForAttributeResponse_Failure_Cause_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Failure.Cause cause = 2;
+  inline bool has_cause() const;
+  inline void clear_cause();
+  static const int kCauseFieldNumber = 2;
+  inline ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure_Cause cause() const;
+  inline void set_cause(::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure_Cause value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Failure)
+ private:
+  inline void set_has_cause();
+  inline void clear_has_cause();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int cause_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static GetUpdateRateValueForAttributeResponse_Failure* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class GetUpdateRateValueForAttributeResponse : public ::google::protobuf::Message {
+ public:
+  GetUpdateRateValueForAttributeResponse();
+  virtual ~GetUpdateRateValueForAttributeResponse();
+
+  GetUpdateRateValueForAttributeResponse(const GetUpdateRateValueForAttributeResponse& from);
+
+  inline GetUpdateRateValueForAttributeResponse& operator=(const GetUpdateRateValueForAttributeResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const GetUpdateRateValueForAttributeResponse& default_instance();
+
+  void Swap(GetUpdateRateValueForAttributeResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  GetUpdateRateValueForAttributeResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const GetUpdateRateValueForAttributeResponse& from);
+  void MergeFrom(const GetUpdateRateValueForAttributeResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef GetUpdateRateValueForAttributeResponse_Success Success;
+  typedef GetUpdateRateValueForAttributeResponse_Failure Failure;
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // optional .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Success success = 2;
+  inline bool has_success() const;
+  inline void clear_success();
+  static const int kSuccessFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success& success() const;
+  inline ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success* mutable_success();
+  inline ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success* release_success();
+  inline void set_allocated_success(::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success* success);
+
+  // optional .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Failure failure = 3;
+  inline bool has_failure() const;
+  inline void clear_failure();
+  static const int kFailureFieldNumber = 3;
+  inline const ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure& failure() const;
+  inline ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure* mutable_failure();
+  inline ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure* release_failure();
+  inline void set_allocated_failure(::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure* failure);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_success();
+  inline void clear_has_success();
+  inline void set_has_failure();
+  inline void clear_has_failure();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success* success_;
+  ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure* failure_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static GetUpdateRateValueForAttributeResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AttributeOwnershipDivestitureIfWantedResponse : public ::google::protobuf::Message {
+ public:
+  AttributeOwnershipDivestitureIfWantedResponse();
+  virtual ~AttributeOwnershipDivestitureIfWantedResponse();
+
+  AttributeOwnershipDivestitureIfWantedResponse(const AttributeOwnershipDivestitureIfWantedResponse& from);
+
+  inline AttributeOwnershipDivestitureIfWantedResponse& operator=(const AttributeOwnershipDivestitureIfWantedResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AttributeOwnershipDivestitureIfWantedResponse& default_instance();
+
+  void Swap(AttributeOwnershipDivestitureIfWantedResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  AttributeOwnershipDivestitureIfWantedResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AttributeOwnershipDivestitureIfWantedResponse& from);
+  void MergeFrom(const AttributeOwnershipDivestitureIfWantedResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AttributeOwnershipDivestitureIfWantedResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AttributeOwnershipDivestitureIfWantedResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class QueryGALTResponse : public ::google::protobuf::Message {
+ public:
+  QueryGALTResponse();
+  virtual ~QueryGALTResponse();
+
+  QueryGALTResponse(const QueryGALTResponse& from);
+
+  inline QueryGALTResponse& operator=(const QueryGALTResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const QueryGALTResponse& default_instance();
+
+  void Swap(QueryGALTResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  QueryGALTResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const QueryGALTResponse& from);
+  void MergeFrom(const QueryGALTResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // optional bytes galt = 2;
+  inline bool has_galt() const;
+  inline void clear_galt();
+  static const int kGaltFieldNumber = 2;
+  inline const ::std::string& galt() const;
+  inline void set_galt(const ::std::string& value);
+  inline void set_galt(const char* value);
+  inline void set_galt(const void* value, size_t size);
+  inline ::std::string* mutable_galt();
+  inline ::std::string* release_galt();
+  inline void set_allocated_galt(::std::string* galt);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.QueryGALTResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_galt();
+  inline void clear_has_galt();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::std::string* galt_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static QueryGALTResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class QueryLITSResponse : public ::google::protobuf::Message {
+ public:
+  QueryLITSResponse();
+  virtual ~QueryLITSResponse();
+
+  QueryLITSResponse(const QueryLITSResponse& from);
+
+  inline QueryLITSResponse& operator=(const QueryLITSResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const QueryLITSResponse& default_instance();
+
+  void Swap(QueryLITSResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  QueryLITSResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const QueryLITSResponse& from);
+  void MergeFrom(const QueryLITSResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // optional bytes lits = 2;
+  inline bool has_lits() const;
+  inline void clear_lits();
+  static const int kLitsFieldNumber = 2;
+  inline const ::std::string& lits() const;
+  inline void set_lits(const ::std::string& value);
+  inline void set_lits(const char* value);
+  inline void set_lits(const void* value, size_t size);
+  inline ::std::string* mutable_lits();
+  inline ::std::string* release_lits();
+  inline void set_allocated_lits(::std::string* lits);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.QueryLITSResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_lits();
+  inline void clear_has_lits();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::std::string* lits_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static QueryLITSResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RetractResponse_Failure : public ::google::protobuf::Message {
+ public:
+  RetractResponse_Failure();
+  virtual ~RetractResponse_Failure();
+
+  RetractResponse_Failure(const RetractResponse_Failure& from);
+
+  inline RetractResponse_Failure& operator=(const RetractResponse_Failure& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RetractResponse_Failure& default_instance();
+
+  void Swap(RetractResponse_Failure* other);
+
+  // implements Message ----------------------------------------------
+
+  RetractResponse_Failure* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RetractResponse_Failure& from);
+  void MergeFrom(const RetractResponse_Failure& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef RetractResponse_Failure_Cause Cause;
+  static const Cause SAVE_IN_PROGRESS = RetractResponse_Failure_Cause_SAVE_IN_PROGRESS;
+  static const Cause RESTORE_IN_PROGRESS = RetractResponse_Failure_Cause_RESTORE_IN_PROGRESS;
+  static inline bool Cause_IsValid(int value) {
+    return RetractResponse_Failure_Cause_IsValid(value);
+  }
+  static const Cause Cause_MIN =
+    RetractResponse_Failure_Cause_Cause_MIN;
+  static const Cause Cause_MAX =
+    RetractResponse_Failure_Cause_Cause_MAX;
+  static const int Cause_ARRAYSIZE =
+    RetractResponse_Failure_Cause_Cause_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  Cause_descriptor() {
+    return RetractResponse_Failure_Cause_descriptor();
+  }
+  static inline const ::std::string& Cause_Name(Cause value) {
+    return RetractResponse_Failure_Cause_Name(value);
+  }
+  static inline bool Cause_Parse(const ::std::string& name,
+      Cause* value) {
+    return RetractResponse_Failure_Cause_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.RetractResponse.Failure.Cause cause = 1;
+  inline bool has_cause() const;
+  inline void clear_cause();
+  static const int kCauseFieldNumber = 1;
+  inline ::ohla::rti::messages::proto::RetractResponse_Failure_Cause cause() const;
+  inline void set_cause(::ohla::rti::messages::proto::RetractResponse_Failure_Cause value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RetractResponse.Failure)
+ private:
+  inline void set_has_cause();
+  inline void clear_has_cause();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int cause_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RetractResponse_Failure* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RetractResponse : public ::google::protobuf::Message {
+ public:
+  RetractResponse();
+  virtual ~RetractResponse();
+
+  RetractResponse(const RetractResponse& from);
+
+  inline RetractResponse& operator=(const RetractResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RetractResponse& default_instance();
+
+  void Swap(RetractResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  RetractResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RetractResponse& from);
+  void MergeFrom(const RetractResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef RetractResponse_Failure Failure;
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // optional .ohla.rti.messages.proto.RetractResponse.Failure failure = 2;
+  inline bool has_failure() const;
+  inline void clear_failure();
+  static const int kFailureFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::RetractResponse_Failure& failure() const;
+  inline ::ohla::rti::messages::proto::RetractResponse_Failure* mutable_failure();
+  inline ::ohla::rti::messages::proto::RetractResponse_Failure* release_failure();
+  inline void set_allocated_failure(::ohla::rti::messages::proto::RetractResponse_Failure* failure);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RetractResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_failure();
+  inline void clear_has_failure();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::messages::proto::RetractResponse_Failure* failure_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RetractResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AssociateRegionsForUpdatesResponse_Failure : public ::google::protobuf::Message {
+ public:
+  AssociateRegionsForUpdatesResponse_Failure();
+  virtual ~AssociateRegionsForUpdatesResponse_Failure();
+
+  AssociateRegionsForUpdatesResponse_Failure(const AssociateRegionsForUpdatesResponse_Failure& from);
+
+  inline AssociateRegionsForUpdatesResponse_Failure& operator=(const AssociateRegionsForUpdatesResponse_Failure& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AssociateRegionsForUpdatesResponse_Failure& default_instance();
+
+  void Swap(AssociateRegionsForUpdatesResponse_Failure* other);
+
+  // implements Message ----------------------------------------------
+
+  AssociateRegionsForUpdatesResponse_Failure* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AssociateRegionsForUpdatesResponse_Failure& from);
+  void MergeFrom(const AssociateRegionsForUpdatesResponse_Failure& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef AssociateRegionsForUpdatesResponse_Failure_Cause Cause;
+  static const Cause SAVE_IN_PROGRESS = AssociateRegionsForUpdatesResponse_Failure_Cause_SAVE_IN_PROGRESS;
+  static const Cause OBJECT_INSTANCE_NOT_KNOWN = AssociateRegionsForUpdatesResponse_Failure_Cause_OBJECT_INSTANCE_NOT_KNOWN;
+  static inline bool Cause_IsValid(int value) {
+    return AssociateRegionsForUpdatesResponse_Failure_Cause_IsValid(value);
+  }
+  static const Cause Cause_MIN =
+    AssociateRegionsForUpdatesResponse_Failure_Cause_Cause_MIN;
+  static const Cause Cause_MAX =
+    AssociateRegionsForUpdatesResponse_Failure_Cause_Cause_MAX;
+  static const int Cause_ARRAYSIZE =
+    AssociateRegionsForUpdatesResponse_Failure_Cause_Cause_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  Cause_descriptor() {
+    return AssociateRegionsForUpdatesResponse_Failure_Cause_descriptor();
+  }
+  static inline const ::std::string& Cause_Name(Cause value) {
+    return AssociateRegionsForUpdatesResponse_Failure_Cause_Name(value);
+  }
+  static inline bool Cause_Parse(const ::std::string& name,
+      Cause* value) {
+    return AssociateRegionsForUpdatesResponse_Failure_Cause_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.AssociateRegionsForUpdatesResponse.Failure.Cause cause = 1;
+  inline bool has_cause() const;
+  inline void clear_cause();
+  static const int kCauseFieldNumber = 1;
+  inline ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure_Cause cause() const;
+  inline void set_cause(::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure_Cause value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AssociateRegionsForUpdatesResponse.Failure)
+ private:
+  inline void set_has_cause();
+  inline void clear_has_cause();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int cause_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AssociateRegionsForUpdatesResponse_Failure* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AssociateRegionsForUpdatesResponse : public ::google::protobuf::Message {
+ public:
+  AssociateRegionsForUpdatesResponse();
+  virtual ~AssociateRegionsForUpdatesResponse();
+
+  AssociateRegionsForUpdatesResponse(const AssociateRegionsForUpdatesResponse& from);
+
+  inline AssociateRegionsForUpdatesResponse& operator=(const AssociateRegionsForUpdatesResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AssociateRegionsForUpdatesResponse& default_instance();
+
+  void Swap(AssociateRegionsForUpdatesResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  AssociateRegionsForUpdatesResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AssociateRegionsForUpdatesResponse& from);
+  void MergeFrom(const AssociateRegionsForUpdatesResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef AssociateRegionsForUpdatesResponse_Failure Failure;
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // optional .ohla.rti.messages.proto.AssociateRegionsForUpdatesResponse.Failure failure = 2;
+  inline bool has_failure() const;
+  inline void clear_failure();
+  static const int kFailureFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure& failure() const;
+  inline ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure* mutable_failure();
+  inline ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure* release_failure();
+  inline void set_allocated_failure(::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure* failure);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AssociateRegionsForUpdatesResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_failure();
+  inline void clear_has_failure();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure* failure_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AssociateRegionsForUpdatesResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class UnassociateRegionsForUpdatesResponse_Failure : public ::google::protobuf::Message {
+ public:
+  UnassociateRegionsForUpdatesResponse_Failure();
+  virtual ~UnassociateRegionsForUpdatesResponse_Failure();
+
+  UnassociateRegionsForUpdatesResponse_Failure(const UnassociateRegionsForUpdatesResponse_Failure& from);
+
+  inline UnassociateRegionsForUpdatesResponse_Failure& operator=(const UnassociateRegionsForUpdatesResponse_Failure& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const UnassociateRegionsForUpdatesResponse_Failure& default_instance();
+
+  void Swap(UnassociateRegionsForUpdatesResponse_Failure* other);
+
+  // implements Message ----------------------------------------------
+
+  UnassociateRegionsForUpdatesResponse_Failure* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const UnassociateRegionsForUpdatesResponse_Failure& from);
+  void MergeFrom(const UnassociateRegionsForUpdatesResponse_Failure& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef UnassociateRegionsForUpdatesResponse_Failure_Cause Cause;
+  static const Cause SAVE_IN_PROGRESS = UnassociateRegionsForUpdatesResponse_Failure_Cause_SAVE_IN_PROGRESS;
+  static const Cause OBJECT_INSTANCE_NOT_KNOWN = UnassociateRegionsForUpdatesResponse_Failure_Cause_OBJECT_INSTANCE_NOT_KNOWN;
+  static inline bool Cause_IsValid(int value) {
+    return UnassociateRegionsForUpdatesResponse_Failure_Cause_IsValid(value);
+  }
+  static const Cause Cause_MIN =
+    UnassociateRegionsForUpdatesResponse_Failure_Cause_Cause_MIN;
+  static const Cause Cause_MAX =
+    UnassociateRegionsForUpdatesResponse_Failure_Cause_Cause_MAX;
+  static const int Cause_ARRAYSIZE =
+    UnassociateRegionsForUpdatesResponse_Failure_Cause_Cause_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  Cause_descriptor() {
+    return UnassociateRegionsForUpdatesResponse_Failure_Cause_descriptor();
+  }
+  static inline const ::std::string& Cause_Name(Cause value) {
+    return UnassociateRegionsForUpdatesResponse_Failure_Cause_Name(value);
+  }
+  static inline bool Cause_Parse(const ::std::string& name,
+      Cause* value) {
+    return UnassociateRegionsForUpdatesResponse_Failure_Cause_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.UnassociateRegionsForUpdatesResponse.Failure.Cause cause = 1;
+  inline bool has_cause() const;
+  inline void clear_cause();
+  static const int kCauseFieldNumber = 1;
+  inline ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure_Cause cause() const;
+  inline void set_cause(::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure_Cause value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.UnassociateRegionsForUpdatesResponse.Failure)
+ private:
+  inline void set_has_cause();
+  inline void clear_has_cause();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int cause_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static UnassociateRegionsForUpdatesResponse_Failure* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class UnassociateRegionsForUpdatesResponse : public ::google::protobuf::Message {
+ public:
+  UnassociateRegionsForUpdatesResponse();
+  virtual ~UnassociateRegionsForUpdatesResponse();
+
+  UnassociateRegionsForUpdatesResponse(const UnassociateRegionsForUpdatesResponse& from);
+
+  inline UnassociateRegionsForUpdatesResponse& operator=(const UnassociateRegionsForUpdatesResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const UnassociateRegionsForUpdatesResponse& default_instance();
+
+  void Swap(UnassociateRegionsForUpdatesResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  UnassociateRegionsForUpdatesResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const UnassociateRegionsForUpdatesResponse& from);
+  void MergeFrom(const UnassociateRegionsForUpdatesResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef UnassociateRegionsForUpdatesResponse_Failure Failure;
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // optional .ohla.rti.messages.proto.UnassociateRegionsForUpdatesResponse.Failure failure = 2;
+  inline bool has_failure() const;
+  inline void clear_failure();
+  static const int kFailureFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure& failure() const;
+  inline ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure* mutable_failure();
+  inline ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure* release_failure();
+  inline void set_allocated_failure(::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure* failure);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.UnassociateRegionsForUpdatesResponse)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_failure();
+  inline void clear_has_failure();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure* failure_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static UnassociateRegionsForUpdatesResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class SynchronizationPointRegistrationSucceeded : public ::google::protobuf::Message {
+ public:
+  SynchronizationPointRegistrationSucceeded();
+  virtual ~SynchronizationPointRegistrationSucceeded();
+
+  SynchronizationPointRegistrationSucceeded(const SynchronizationPointRegistrationSucceeded& from);
+
+  inline SynchronizationPointRegistrationSucceeded& operator=(const SynchronizationPointRegistrationSucceeded& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const SynchronizationPointRegistrationSucceeded& default_instance();
+
+  void Swap(SynchronizationPointRegistrationSucceeded* other);
+
+  // implements Message ----------------------------------------------
+
+  SynchronizationPointRegistrationSucceeded* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const SynchronizationPointRegistrationSucceeded& from);
+  void MergeFrom(const SynchronizationPointRegistrationSucceeded& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string label = 1;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 1;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.SynchronizationPointRegistrationSucceeded)
+ private:
+  inline void set_has_label();
+  inline void clear_has_label();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* label_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static SynchronizationPointRegistrationSucceeded* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class SynchronizationPointRegistrationFailed : public ::google::protobuf::Message {
+ public:
+  SynchronizationPointRegistrationFailed();
+  virtual ~SynchronizationPointRegistrationFailed();
+
+  SynchronizationPointRegistrationFailed(const SynchronizationPointRegistrationFailed& from);
+
+  inline SynchronizationPointRegistrationFailed& operator=(const SynchronizationPointRegistrationFailed& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const SynchronizationPointRegistrationFailed& default_instance();
+
+  void Swap(SynchronizationPointRegistrationFailed* other);
+
+  // implements Message ----------------------------------------------
+
+  SynchronizationPointRegistrationFailed* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const SynchronizationPointRegistrationFailed& from);
+  void MergeFrom(const SynchronizationPointRegistrationFailed& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string label = 1;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 1;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // required .ohla.rti.messages.proto.SynchronizationPointFailureReason synchronizationPointFailureReason = 2;
+  inline bool has_synchronizationpointfailurereason() const;
+  inline void clear_synchronizationpointfailurereason();
+  static const int kSynchronizationPointFailureReasonFieldNumber = 2;
+  inline ::ohla::rti::messages::proto::SynchronizationPointFailureReason synchronizationpointfailurereason() const;
+  inline void set_synchronizationpointfailurereason(::ohla::rti::messages::proto::SynchronizationPointFailureReason value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.SynchronizationPointRegistrationFailed)
+ private:
+  inline void set_has_label();
+  inline void clear_has_label();
+  inline void set_has_synchronizationpointfailurereason();
+  inline void clear_has_synchronizationpointfailurereason();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* label_;
+  int synchronizationpointfailurereason_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static SynchronizationPointRegistrationFailed* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AnnounceSynchronizationPoint : public ::google::protobuf::Message {
+ public:
+  AnnounceSynchronizationPoint();
+  virtual ~AnnounceSynchronizationPoint();
+
+  AnnounceSynchronizationPoint(const AnnounceSynchronizationPoint& from);
+
+  inline AnnounceSynchronizationPoint& operator=(const AnnounceSynchronizationPoint& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AnnounceSynchronizationPoint& default_instance();
+
+  void Swap(AnnounceSynchronizationPoint* other);
+
+  // implements Message ----------------------------------------------
+
+  AnnounceSynchronizationPoint* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AnnounceSynchronizationPoint& from);
+  void MergeFrom(const AnnounceSynchronizationPoint& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string label = 1;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 1;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // optional bytes tag = 2;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 2;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AnnounceSynchronizationPoint)
+ private:
+  inline void set_has_label();
+  inline void clear_has_label();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* label_;
+  ::std::string* tag_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AnnounceSynchronizationPoint* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationSynchronized : public ::google::protobuf::Message {
+ public:
+  FederationSynchronized();
+  virtual ~FederationSynchronized();
+
+  FederationSynchronized(const FederationSynchronized& from);
+
+  inline FederationSynchronized& operator=(const FederationSynchronized& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationSynchronized& default_instance();
+
+  void Swap(FederationSynchronized* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationSynchronized* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationSynchronized& from);
+  void MergeFrom(const FederationSynchronized& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string label = 1;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 1;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // repeated uint32 federateHandlesThatFailedToSynchronize = 2;
+  inline int federatehandlesthatfailedtosynchronize_size() const;
+  inline void clear_federatehandlesthatfailedtosynchronize();
+  static const int kFederateHandlesThatFailedToSynchronizeFieldNumber = 2;
+  inline ::google::protobuf::uint32 federatehandlesthatfailedtosynchronize(int index) const;
+  inline void set_federatehandlesthatfailedtosynchronize(int index, ::google::protobuf::uint32 value);
+  inline void add_federatehandlesthatfailedtosynchronize(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      federatehandlesthatfailedtosynchronize() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_federatehandlesthatfailedtosynchronize();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederationSynchronized)
+ private:
+  inline void set_has_label();
+  inline void clear_has_label();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* label_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > federatehandlesthatfailedtosynchronize_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationSynchronized* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class InitiateFederateSave : public ::google::protobuf::Message {
+ public:
+  InitiateFederateSave();
+  virtual ~InitiateFederateSave();
+
+  InitiateFederateSave(const InitiateFederateSave& from);
+
+  inline InitiateFederateSave& operator=(const InitiateFederateSave& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const InitiateFederateSave& default_instance();
+
+  void Swap(InitiateFederateSave* other);
+
+  // implements Message ----------------------------------------------
+
+  InitiateFederateSave* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const InitiateFederateSave& from);
+  void MergeFrom(const InitiateFederateSave& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string label = 1;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 1;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // optional bytes time = 2;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 2;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.InitiateFederateSave)
+ private:
+  inline void set_has_label();
+  inline void clear_has_label();
+  inline void set_has_time();
+  inline void clear_has_time();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* label_;
+  ::std::string* time_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static InitiateFederateSave* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationSaved : public ::google::protobuf::Message {
+ public:
+  FederationSaved();
+  virtual ~FederationSaved();
+
+  FederationSaved(const FederationSaved& from);
+
+  inline FederationSaved& operator=(const FederationSaved& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationSaved& default_instance();
+
+  void Swap(FederationSaved* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationSaved* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationSaved& from);
+  void MergeFrom(const FederationSaved& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederationSaved)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationSaved* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationNotSaved : public ::google::protobuf::Message {
+ public:
+  FederationNotSaved();
+  virtual ~FederationNotSaved();
+
+  FederationNotSaved(const FederationNotSaved& from);
+
+  inline FederationNotSaved& operator=(const FederationNotSaved& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationNotSaved& default_instance();
+
+  void Swap(FederationNotSaved* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationNotSaved* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationNotSaved& from);
+  void MergeFrom(const FederationNotSaved& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.SaveFailureReason saveFailureReason = 1;
+  inline bool has_savefailurereason() const;
+  inline void clear_savefailurereason();
+  static const int kSaveFailureReasonFieldNumber = 1;
+  inline ::ohla::rti::messages::proto::SaveFailureReason savefailurereason() const;
+  inline void set_savefailurereason(::ohla::rti::messages::proto::SaveFailureReason value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederationNotSaved)
+ private:
+  inline void set_has_savefailurereason();
+  inline void clear_has_savefailurereason();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int savefailurereason_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationNotSaved* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateSaveStatus : public ::google::protobuf::Message {
+ public:
+  FederateSaveStatus();
+  virtual ~FederateSaveStatus();
+
+  FederateSaveStatus(const FederateSaveStatus& from);
+
+  inline FederateSaveStatus& operator=(const FederateSaveStatus& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateSaveStatus& default_instance();
+
+  void Swap(FederateSaveStatus* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateSaveStatus* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateSaveStatus& from);
+  void MergeFrom(const FederateSaveStatus& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 federateHandle = 1;
+  inline bool has_federatehandle() const;
+  inline void clear_federatehandle();
+  static const int kFederateHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 federatehandle() const;
+  inline void set_federatehandle(::google::protobuf::uint32 value);
+
+  // required .ohla.rti.messages.proto.SaveStatus saveStatus = 2;
+  inline bool has_savestatus() const;
+  inline void clear_savestatus();
+  static const int kSaveStatusFieldNumber = 2;
+  inline ::ohla::rti::messages::proto::SaveStatus savestatus() const;
+  inline void set_savestatus(::ohla::rti::messages::proto::SaveStatus value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederateSaveStatus)
+ private:
+  inline void set_has_federatehandle();
+  inline void clear_has_federatehandle();
+  inline void set_has_savestatus();
+  inline void clear_has_savestatus();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 federatehandle_;
+  int savestatus_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateSaveStatus* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationSaveStatusResponse : public ::google::protobuf::Message {
+ public:
+  FederationSaveStatusResponse();
+  virtual ~FederationSaveStatusResponse();
+
+  FederationSaveStatusResponse(const FederationSaveStatusResponse& from);
+
+  inline FederationSaveStatusResponse& operator=(const FederationSaveStatusResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationSaveStatusResponse& default_instance();
+
+  void Swap(FederationSaveStatusResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationSaveStatusResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationSaveStatusResponse& from);
+  void MergeFrom(const FederationSaveStatusResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated .ohla.rti.messages.proto.FederateSaveStatus federationSaveStatus = 1;
+  inline int federationsavestatus_size() const;
+  inline void clear_federationsavestatus();
+  static const int kFederationSaveStatusFieldNumber = 1;
+  inline const ::ohla::rti::messages::proto::FederateSaveStatus& federationsavestatus(int index) const;
+  inline ::ohla::rti::messages::proto::FederateSaveStatus* mutable_federationsavestatus(int index);
+  inline ::ohla::rti::messages::proto::FederateSaveStatus* add_federationsavestatus();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::FederateSaveStatus >&
+      federationsavestatus() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::FederateSaveStatus >*
+      mutable_federationsavestatus();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederationSaveStatusResponse)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::FederateSaveStatus > federationsavestatus_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationSaveStatusResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestFederationRestoreSucceeded : public ::google::protobuf::Message {
+ public:
+  RequestFederationRestoreSucceeded();
+  virtual ~RequestFederationRestoreSucceeded();
+
+  RequestFederationRestoreSucceeded(const RequestFederationRestoreSucceeded& from);
+
+  inline RequestFederationRestoreSucceeded& operator=(const RequestFederationRestoreSucceeded& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestFederationRestoreSucceeded& default_instance();
+
+  void Swap(RequestFederationRestoreSucceeded* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestFederationRestoreSucceeded* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestFederationRestoreSucceeded& from);
+  void MergeFrom(const RequestFederationRestoreSucceeded& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string label = 1;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 1;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestFederationRestoreSucceeded)
+ private:
+  inline void set_has_label();
+  inline void clear_has_label();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* label_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestFederationRestoreSucceeded* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestFederationRestoreFailed : public ::google::protobuf::Message {
+ public:
+  RequestFederationRestoreFailed();
+  virtual ~RequestFederationRestoreFailed();
+
+  RequestFederationRestoreFailed(const RequestFederationRestoreFailed& from);
+
+  inline RequestFederationRestoreFailed& operator=(const RequestFederationRestoreFailed& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestFederationRestoreFailed& default_instance();
+
+  void Swap(RequestFederationRestoreFailed* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestFederationRestoreFailed* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestFederationRestoreFailed& from);
+  void MergeFrom(const RequestFederationRestoreFailed& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string label = 1;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 1;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestFederationRestoreFailed)
+ private:
+  inline void set_has_label();
+  inline void clear_has_label();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* label_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestFederationRestoreFailed* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationRestoreBegun : public ::google::protobuf::Message {
+ public:
+  FederationRestoreBegun();
+  virtual ~FederationRestoreBegun();
+
+  FederationRestoreBegun(const FederationRestoreBegun& from);
+
+  inline FederationRestoreBegun& operator=(const FederationRestoreBegun& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationRestoreBegun& default_instance();
+
+  void Swap(FederationRestoreBegun* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationRestoreBegun* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationRestoreBegun& from);
+  void MergeFrom(const FederationRestoreBegun& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string label = 1;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 1;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // required string federateName = 2;
+  inline bool has_federatename() const;
+  inline void clear_federatename();
+  static const int kFederateNameFieldNumber = 2;
+  inline const ::std::string& federatename() const;
+  inline void set_federatename(const ::std::string& value);
+  inline void set_federatename(const char* value);
+  inline void set_federatename(const char* value, size_t size);
+  inline ::std::string* mutable_federatename();
+  inline ::std::string* release_federatename();
+  inline void set_allocated_federatename(::std::string* federatename);
+
+  // required uint32 federateHandle = 3;
+  inline bool has_federatehandle() const;
+  inline void clear_federatehandle();
+  static const int kFederateHandleFieldNumber = 3;
+  inline ::google::protobuf::uint32 federatehandle() const;
+  inline void set_federatehandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederationRestoreBegun)
+ private:
+  inline void set_has_label();
+  inline void clear_has_label();
+  inline void set_has_federatename();
+  inline void clear_has_federatename();
+  inline void set_has_federatehandle();
+  inline void clear_has_federatehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* label_;
+  ::std::string* federatename_;
+  ::google::protobuf::uint32 federatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationRestoreBegun* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class InitiateFederateRestore : public ::google::protobuf::Message {
+ public:
+  InitiateFederateRestore();
+  virtual ~InitiateFederateRestore();
+
+  InitiateFederateRestore(const InitiateFederateRestore& from);
+
+  inline InitiateFederateRestore& operator=(const InitiateFederateRestore& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const InitiateFederateRestore& default_instance();
+
+  void Swap(InitiateFederateRestore* other);
+
+  // implements Message ----------------------------------------------
+
+  InitiateFederateRestore* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const InitiateFederateRestore& from);
+  void MergeFrom(const InitiateFederateRestore& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.InitiateFederateRestore)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static InitiateFederateRestore* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationRestored : public ::google::protobuf::Message {
+ public:
+  FederationRestored();
+  virtual ~FederationRestored();
+
+  FederationRestored(const FederationRestored& from);
+
+  inline FederationRestored& operator=(const FederationRestored& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationRestored& default_instance();
+
+  void Swap(FederationRestored* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationRestored* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationRestored& from);
+  void MergeFrom(const FederationRestored& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederationRestored)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationRestored* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationNotRestored : public ::google::protobuf::Message {
+ public:
+  FederationNotRestored();
+  virtual ~FederationNotRestored();
+
+  FederationNotRestored(const FederationNotRestored& from);
+
+  inline FederationNotRestored& operator=(const FederationNotRestored& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationNotRestored& default_instance();
+
+  void Swap(FederationNotRestored* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationNotRestored* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationNotRestored& from);
+  void MergeFrom(const FederationNotRestored& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.messages.proto.RestoreFailureReason restoreFailureReason = 1;
+  inline bool has_restorefailurereason() const;
+  inline void clear_restorefailurereason();
+  static const int kRestoreFailureReasonFieldNumber = 1;
+  inline ::ohla::rti::messages::proto::RestoreFailureReason restorefailurereason() const;
+  inline void set_restorefailurereason(::ohla::rti::messages::proto::RestoreFailureReason value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederationNotRestored)
+ private:
+  inline void set_has_restorefailurereason();
+  inline void clear_has_restorefailurereason();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int restorefailurereason_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationNotRestored* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateRestoreStatus : public ::google::protobuf::Message {
+ public:
+  FederateRestoreStatus();
+  virtual ~FederateRestoreStatus();
+
+  FederateRestoreStatus(const FederateRestoreStatus& from);
+
+  inline FederateRestoreStatus& operator=(const FederateRestoreStatus& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateRestoreStatus& default_instance();
+
+  void Swap(FederateRestoreStatus* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateRestoreStatus* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateRestoreStatus& from);
+  void MergeFrom(const FederateRestoreStatus& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 preRestoreFederateHandle = 1;
+  inline bool has_prerestorefederatehandle() const;
+  inline void clear_prerestorefederatehandle();
+  static const int kPreRestoreFederateHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 prerestorefederatehandle() const;
+  inline void set_prerestorefederatehandle(::google::protobuf::uint32 value);
+
+  // optional uint32 postRestoreFederateHandle = 2;
+  inline bool has_postrestorefederatehandle() const;
+  inline void clear_postrestorefederatehandle();
+  static const int kPostRestoreFederateHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 postrestorefederatehandle() const;
+  inline void set_postrestorefederatehandle(::google::protobuf::uint32 value);
+
+  // required .ohla.rti.messages.proto.RestoreStatus restoreStatus = 3;
+  inline bool has_restorestatus() const;
+  inline void clear_restorestatus();
+  static const int kRestoreStatusFieldNumber = 3;
+  inline ::ohla::rti::messages::proto::RestoreStatus restorestatus() const;
+  inline void set_restorestatus(::ohla::rti::messages::proto::RestoreStatus value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederateRestoreStatus)
+ private:
+  inline void set_has_prerestorefederatehandle();
+  inline void clear_has_prerestorefederatehandle();
+  inline void set_has_postrestorefederatehandle();
+  inline void clear_has_postrestorefederatehandle();
+  inline void set_has_restorestatus();
+  inline void clear_has_restorestatus();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 prerestorefederatehandle_;
+  ::google::protobuf::uint32 postrestorefederatehandle_;
+  int restorestatus_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateRestoreStatus* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationRestoreStatusResponse : public ::google::protobuf::Message {
+ public:
+  FederationRestoreStatusResponse();
+  virtual ~FederationRestoreStatusResponse();
+
+  FederationRestoreStatusResponse(const FederationRestoreStatusResponse& from);
+
+  inline FederationRestoreStatusResponse& operator=(const FederationRestoreStatusResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationRestoreStatusResponse& default_instance();
+
+  void Swap(FederationRestoreStatusResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationRestoreStatusResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationRestoreStatusResponse& from);
+  void MergeFrom(const FederationRestoreStatusResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated .ohla.rti.messages.proto.FederateRestoreStatus federationRestoreStatus = 1;
+  inline int federationrestorestatus_size() const;
+  inline void clear_federationrestorestatus();
+  static const int kFederationRestoreStatusFieldNumber = 1;
+  inline const ::ohla::rti::messages::proto::FederateRestoreStatus& federationrestorestatus(int index) const;
+  inline ::ohla::rti::messages::proto::FederateRestoreStatus* mutable_federationrestorestatus(int index);
+  inline ::ohla::rti::messages::proto::FederateRestoreStatus* add_federationrestorestatus();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::FederateRestoreStatus >&
+      federationrestorestatus() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::FederateRestoreStatus >*
+      mutable_federationrestorestatus();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederationRestoreStatusResponse)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::FederateRestoreStatus > federationrestorestatus_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationRestoreStatusResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class StartRegistrationForObjectClass : public ::google::protobuf::Message {
+ public:
+  StartRegistrationForObjectClass();
+  virtual ~StartRegistrationForObjectClass();
+
+  StartRegistrationForObjectClass(const StartRegistrationForObjectClass& from);
+
+  inline StartRegistrationForObjectClass& operator=(const StartRegistrationForObjectClass& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const StartRegistrationForObjectClass& default_instance();
+
+  void Swap(StartRegistrationForObjectClass* other);
+
+  // implements Message ----------------------------------------------
+
+  StartRegistrationForObjectClass* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const StartRegistrationForObjectClass& from);
+  void MergeFrom(const StartRegistrationForObjectClass& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.StartRegistrationForObjectClass)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 objectclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static StartRegistrationForObjectClass* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class StopRegistrationForObjectClass : public ::google::protobuf::Message {
+ public:
+  StopRegistrationForObjectClass();
+  virtual ~StopRegistrationForObjectClass();
+
+  StopRegistrationForObjectClass(const StopRegistrationForObjectClass& from);
+
+  inline StopRegistrationForObjectClass& operator=(const StopRegistrationForObjectClass& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const StopRegistrationForObjectClass& default_instance();
+
+  void Swap(StopRegistrationForObjectClass* other);
+
+  // implements Message ----------------------------------------------
+
+  StopRegistrationForObjectClass* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const StopRegistrationForObjectClass& from);
+  void MergeFrom(const StopRegistrationForObjectClass& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.StopRegistrationForObjectClass)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 objectclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static StopRegistrationForObjectClass* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class TurnInteractionsOn : public ::google::protobuf::Message {
+ public:
+  TurnInteractionsOn();
+  virtual ~TurnInteractionsOn();
+
+  TurnInteractionsOn(const TurnInteractionsOn& from);
+
+  inline TurnInteractionsOn& operator=(const TurnInteractionsOn& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const TurnInteractionsOn& default_instance();
+
+  void Swap(TurnInteractionsOn* other);
+
+  // implements Message ----------------------------------------------
+
+  TurnInteractionsOn* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const TurnInteractionsOn& from);
+  void MergeFrom(const TurnInteractionsOn& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 interactionClassHandle = 1;
+  inline bool has_interactionclasshandle() const;
+  inline void clear_interactionclasshandle();
+  static const int kInteractionClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 interactionclasshandle() const;
+  inline void set_interactionclasshandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.TurnInteractionsOn)
+ private:
+  inline void set_has_interactionclasshandle();
+  inline void clear_has_interactionclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 interactionclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static TurnInteractionsOn* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class TurnInteractionsOff : public ::google::protobuf::Message {
+ public:
+  TurnInteractionsOff();
+  virtual ~TurnInteractionsOff();
+
+  TurnInteractionsOff(const TurnInteractionsOff& from);
+
+  inline TurnInteractionsOff& operator=(const TurnInteractionsOff& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const TurnInteractionsOff& default_instance();
+
+  void Swap(TurnInteractionsOff* other);
+
+  // implements Message ----------------------------------------------
+
+  TurnInteractionsOff* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const TurnInteractionsOff& from);
+  void MergeFrom(const TurnInteractionsOff& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 interactionClassHandle = 1;
+  inline bool has_interactionclasshandle() const;
+  inline void clear_interactionclasshandle();
+  static const int kInteractionClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 interactionclasshandle() const;
+  inline void set_interactionclasshandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.TurnInteractionsOff)
+ private:
+  inline void set_has_interactionclasshandle();
+  inline void clear_has_interactionclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 interactionclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static TurnInteractionsOff* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class DiscoverObjectInstance : public ::google::protobuf::Message {
+ public:
+  DiscoverObjectInstance();
+  virtual ~DiscoverObjectInstance();
+
+  DiscoverObjectInstance(const DiscoverObjectInstance& from);
+
+  inline DiscoverObjectInstance& operator=(const DiscoverObjectInstance& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const DiscoverObjectInstance& default_instance();
+
+  void Swap(DiscoverObjectInstance* other);
+
+  // implements Message ----------------------------------------------
+
+  DiscoverObjectInstance* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const DiscoverObjectInstance& from);
+  void MergeFrom(const DiscoverObjectInstance& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // required uint32 objectClassHandle = 2;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // required string objectInstanceName = 3;
+  inline bool has_objectinstancename() const;
+  inline void clear_objectinstancename();
+  static const int kObjectInstanceNameFieldNumber = 3;
+  inline const ::std::string& objectinstancename() const;
+  inline void set_objectinstancename(const ::std::string& value);
+  inline void set_objectinstancename(const char* value);
+  inline void set_objectinstancename(const char* value, size_t size);
+  inline ::std::string* mutable_objectinstancename();
+  inline ::std::string* release_objectinstancename();
+  inline void set_allocated_objectinstancename(::std::string* objectinstancename);
+
+  // required uint32 producingFederateHandle = 4;
+  inline bool has_producingfederatehandle() const;
+  inline void clear_producingfederatehandle();
+  static const int kProducingFederateHandleFieldNumber = 4;
+  inline ::google::protobuf::uint32 producingfederatehandle() const;
+  inline void set_producingfederatehandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.DiscoverObjectInstance)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+  inline void set_has_objectinstancename();
+  inline void clear_has_objectinstancename();
+  inline void set_has_producingfederatehandle();
+  inline void clear_has_producingfederatehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::std::string* objectinstancename_;
+  ::google::protobuf::uint32 objectclasshandle_;
+  ::google::protobuf::uint32 producingfederatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static DiscoverObjectInstance* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class Region : public ::google::protobuf::Message {
+ public:
+  Region();
+  virtual ~Region();
+
+  Region(const Region& from);
+
+  inline Region& operator=(const Region& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const Region& default_instance();
+
+  void Swap(Region* other);
+
+  // implements Message ----------------------------------------------
+
+  Region* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const Region& from);
+  void MergeFrom(const Region& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated .ohla.rti.proto.DimensionRangeBound dimensionRangeBounds = 1;
+  inline int dimensionrangebounds_size() const;
+  inline void clear_dimensionrangebounds();
+  static const int kDimensionRangeBoundsFieldNumber = 1;
+  inline const ::ohla::rti::proto::DimensionRangeBound& dimensionrangebounds(int index) const;
+  inline ::ohla::rti::proto::DimensionRangeBound* mutable_dimensionrangebounds(int index);
+  inline ::ohla::rti::proto::DimensionRangeBound* add_dimensionrangebounds();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >&
+      dimensionrangebounds() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >*
+      mutable_dimensionrangebounds();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.Region)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound > dimensionrangebounds_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static Region* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ReflectAttributeValues : public ::google::protobuf::Message {
+ public:
+  ReflectAttributeValues();
+  virtual ~ReflectAttributeValues();
+
+  ReflectAttributeValues(const ReflectAttributeValues& from);
+
+  inline ReflectAttributeValues& operator=(const ReflectAttributeValues& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ReflectAttributeValues& default_instance();
+
+  void Swap(ReflectAttributeValues* other);
+
+  // implements Message ----------------------------------------------
+
+  ReflectAttributeValues* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ReflectAttributeValues& from);
+  void MergeFrom(const ReflectAttributeValues& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated .ohla.rti.messages.proto.AttributeValue attributeValues = 2;
+  inline int attributevalues_size() const;
+  inline void clear_attributevalues();
+  static const int kAttributeValuesFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::AttributeValue& attributevalues(int index) const;
+  inline ::ohla::rti::messages::proto::AttributeValue* mutable_attributevalues(int index);
+  inline ::ohla::rti::messages::proto::AttributeValue* add_attributevalues();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeValue >&
+      attributevalues() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeValue >*
+      mutable_attributevalues();
+
+  // optional bytes tag = 3;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 3;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // required .ohla.rti.proto.OrderType sentOrderType = 4;
+  inline bool has_sentordertype() const;
+  inline void clear_sentordertype();
+  static const int kSentOrderTypeFieldNumber = 4;
+  inline ::ohla::rti::proto::OrderType sentordertype() const;
+  inline void set_sentordertype(::ohla::rti::proto::OrderType value);
+
+  // required .ohla.rti.proto.OrderType receivedOrderType = 5;
+  inline bool has_receivedordertype() const;
+  inline void clear_receivedordertype();
+  static const int kReceivedOrderTypeFieldNumber = 5;
+  inline ::ohla::rti::proto::OrderType receivedordertype() const;
+  inline void set_receivedordertype(::ohla::rti::proto::OrderType value);
+
+  // required uint32 transportationTypeHandle = 6;
+  inline bool has_transportationtypehandle() const;
+  inline void clear_transportationtypehandle();
+  static const int kTransportationTypeHandleFieldNumber = 6;
+  inline ::google::protobuf::uint32 transportationtypehandle() const;
+  inline void set_transportationtypehandle(::google::protobuf::uint32 value);
+
+  // optional bytes time = 7;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 7;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 8;
+  inline bool has_messageretractionhandle() const;
+  inline void clear_messageretractionhandle();
+  static const int kMessageRetractionHandleFieldNumber = 8;
+  inline const ::ohla::rti::proto::MessageRetractionHandle& messageretractionhandle() const;
+  inline ::ohla::rti::proto::MessageRetractionHandle* mutable_messageretractionhandle();
+  inline ::ohla::rti::proto::MessageRetractionHandle* release_messageretractionhandle();
+  inline void set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle);
+
+  // required uint32 producingFederateHandle = 9;
+  inline bool has_producingfederatehandle() const;
+  inline void clear_producingfederatehandle();
+  static const int kProducingFederateHandleFieldNumber = 9;
+  inline ::google::protobuf::uint32 producingfederatehandle() const;
+  inline void set_producingfederatehandle(::google::protobuf::uint32 value);
+
+  // repeated .ohla.rti.messages.proto.Region regions = 10;
+  inline int regions_size() const;
+  inline void clear_regions();
+  static const int kRegionsFieldNumber = 10;
+  inline const ::ohla::rti::messages::proto::Region& regions(int index) const;
+  inline ::ohla::rti::messages::proto::Region* mutable_regions(int index);
+  inline ::ohla::rti::messages::proto::Region* add_regions();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::Region >&
+      regions() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::Region >*
+      mutable_regions();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ReflectAttributeValues)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+  inline void set_has_sentordertype();
+  inline void clear_has_sentordertype();
+  inline void set_has_receivedordertype();
+  inline void clear_has_receivedordertype();
+  inline void set_has_transportationtypehandle();
+  inline void clear_has_transportationtypehandle();
+  inline void set_has_time();
+  inline void clear_has_time();
+  inline void set_has_messageretractionhandle();
+  inline void clear_has_messageretractionhandle();
+  inline void set_has_producingfederatehandle();
+  inline void clear_has_producingfederatehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeValue > attributevalues_;
+  ::std::string* tag_;
+  int sentordertype_;
+  int receivedordertype_;
+  ::std::string* time_;
+  ::google::protobuf::uint32 transportationtypehandle_;
+  ::google::protobuf::uint32 producingfederatehandle_;
+  ::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::Region > regions_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(10 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ReflectAttributeValues* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RemoveObjectInstance : public ::google::protobuf::Message {
+ public:
+  RemoveObjectInstance();
+  virtual ~RemoveObjectInstance();
+
+  RemoveObjectInstance(const RemoveObjectInstance& from);
+
+  inline RemoveObjectInstance& operator=(const RemoveObjectInstance& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RemoveObjectInstance& default_instance();
+
+  void Swap(RemoveObjectInstance* other);
+
+  // implements Message ----------------------------------------------
+
+  RemoveObjectInstance* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RemoveObjectInstance& from);
+  void MergeFrom(const RemoveObjectInstance& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // optional bytes tag = 2;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 2;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // required .ohla.rti.proto.OrderType sentOrderType = 3;
+  inline bool has_sentordertype() const;
+  inline void clear_sentordertype();
+  static const int kSentOrderTypeFieldNumber = 3;
+  inline ::ohla::rti::proto::OrderType sentordertype() const;
+  inline void set_sentordertype(::ohla::rti::proto::OrderType value);
+
+  // required .ohla.rti.proto.OrderType receivedOrderType = 4;
+  inline bool has_receivedordertype() const;
+  inline void clear_receivedordertype();
+  static const int kReceivedOrderTypeFieldNumber = 4;
+  inline ::ohla::rti::proto::OrderType receivedordertype() const;
+  inline void set_receivedordertype(::ohla::rti::proto::OrderType value);
+
+  // optional bytes time = 5;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 5;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 6;
+  inline bool has_messageretractionhandle() const;
+  inline void clear_messageretractionhandle();
+  static const int kMessageRetractionHandleFieldNumber = 6;
+  inline const ::ohla::rti::proto::MessageRetractionHandle& messageretractionhandle() const;
+  inline ::ohla::rti::proto::MessageRetractionHandle* mutable_messageretractionhandle();
+  inline ::ohla::rti::proto::MessageRetractionHandle* release_messageretractionhandle();
+  inline void set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle);
+
+  // required uint32 producingFederateHandle = 7;
+  inline bool has_producingfederatehandle() const;
+  inline void clear_producingfederatehandle();
+  static const int kProducingFederateHandleFieldNumber = 7;
+  inline ::google::protobuf::uint32 producingfederatehandle() const;
+  inline void set_producingfederatehandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RemoveObjectInstance)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+  inline void set_has_sentordertype();
+  inline void clear_has_sentordertype();
+  inline void set_has_receivedordertype();
+  inline void clear_has_receivedordertype();
+  inline void set_has_time();
+  inline void clear_has_time();
+  inline void set_has_messageretractionhandle();
+  inline void clear_has_messageretractionhandle();
+  inline void set_has_producingfederatehandle();
+  inline void clear_has_producingfederatehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::std::string* tag_;
+  int sentordertype_;
+  int receivedordertype_;
+  ::std::string* time_;
+  ::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle_;
+  ::google::protobuf::uint32 producingfederatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(7 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RemoveObjectInstance* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AttributesInScope : public ::google::protobuf::Message {
+ public:
+  AttributesInScope();
+  virtual ~AttributesInScope();
+
+  AttributesInScope(const AttributesInScope& from);
+
+  inline AttributesInScope& operator=(const AttributesInScope& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AttributesInScope& default_instance();
+
+  void Swap(AttributesInScope* other);
+
+  // implements Message ----------------------------------------------
+
+  AttributesInScope* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AttributesInScope& from);
+  void MergeFrom(const AttributesInScope& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AttributesInScope)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AttributesInScope* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AttributesOutOfScope : public ::google::protobuf::Message {
+ public:
+  AttributesOutOfScope();
+  virtual ~AttributesOutOfScope();
+
+  AttributesOutOfScope(const AttributesOutOfScope& from);
+
+  inline AttributesOutOfScope& operator=(const AttributesOutOfScope& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AttributesOutOfScope& default_instance();
+
+  void Swap(AttributesOutOfScope* other);
+
+  // implements Message ----------------------------------------------
+
+  AttributesOutOfScope* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AttributesOutOfScope& from);
+  void MergeFrom(const AttributesOutOfScope& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AttributesOutOfScope)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AttributesOutOfScope* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ProvideAttributeValueUpdate : public ::google::protobuf::Message {
+ public:
+  ProvideAttributeValueUpdate();
+  virtual ~ProvideAttributeValueUpdate();
+
+  ProvideAttributeValueUpdate(const ProvideAttributeValueUpdate& from);
+
+  inline ProvideAttributeValueUpdate& operator=(const ProvideAttributeValueUpdate& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ProvideAttributeValueUpdate& default_instance();
+
+  void Swap(ProvideAttributeValueUpdate* other);
+
+  // implements Message ----------------------------------------------
+
+  ProvideAttributeValueUpdate* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ProvideAttributeValueUpdate& from);
+  void MergeFrom(const ProvideAttributeValueUpdate& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // optional bytes tag = 3;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 3;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ProvideAttributeValueUpdate)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::std::string* tag_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ProvideAttributeValueUpdate* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class TurnUpdatesOnForObjectInstance : public ::google::protobuf::Message {
+ public:
+  TurnUpdatesOnForObjectInstance();
+  virtual ~TurnUpdatesOnForObjectInstance();
+
+  TurnUpdatesOnForObjectInstance(const TurnUpdatesOnForObjectInstance& from);
+
+  inline TurnUpdatesOnForObjectInstance& operator=(const TurnUpdatesOnForObjectInstance& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const TurnUpdatesOnForObjectInstance& default_instance();
+
+  void Swap(TurnUpdatesOnForObjectInstance* other);
+
+  // implements Message ----------------------------------------------
+
+  TurnUpdatesOnForObjectInstance* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const TurnUpdatesOnForObjectInstance& from);
+  void MergeFrom(const TurnUpdatesOnForObjectInstance& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // required string updateRateDesignator = 3;
+  inline bool has_updateratedesignator() const;
+  inline void clear_updateratedesignator();
+  static const int kUpdateRateDesignatorFieldNumber = 3;
+  inline const ::std::string& updateratedesignator() const;
+  inline void set_updateratedesignator(const ::std::string& value);
+  inline void set_updateratedesignator(const char* value);
+  inline void set_updateratedesignator(const char* value, size_t size);
+  inline ::std::string* mutable_updateratedesignator();
+  inline ::std::string* release_updateratedesignator();
+  inline void set_allocated_updateratedesignator(::std::string* updateratedesignator);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.TurnUpdatesOnForObjectInstance)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_updateratedesignator();
+  inline void clear_has_updateratedesignator();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::std::string* updateratedesignator_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static TurnUpdatesOnForObjectInstance* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class TurnUpdatesOffForObjectInstance : public ::google::protobuf::Message {
+ public:
+  TurnUpdatesOffForObjectInstance();
+  virtual ~TurnUpdatesOffForObjectInstance();
+
+  TurnUpdatesOffForObjectInstance(const TurnUpdatesOffForObjectInstance& from);
+
+  inline TurnUpdatesOffForObjectInstance& operator=(const TurnUpdatesOffForObjectInstance& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const TurnUpdatesOffForObjectInstance& default_instance();
+
+  void Swap(TurnUpdatesOffForObjectInstance* other);
+
+  // implements Message ----------------------------------------------
+
+  TurnUpdatesOffForObjectInstance* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const TurnUpdatesOffForObjectInstance& from);
+  void MergeFrom(const TurnUpdatesOffForObjectInstance& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.TurnUpdatesOffForObjectInstance)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static TurnUpdatesOffForObjectInstance* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ReceiveInteraction : public ::google::protobuf::Message {
+ public:
+  ReceiveInteraction();
+  virtual ~ReceiveInteraction();
+
+  ReceiveInteraction(const ReceiveInteraction& from);
+
+  inline ReceiveInteraction& operator=(const ReceiveInteraction& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ReceiveInteraction& default_instance();
+
+  void Swap(ReceiveInteraction* other);
+
+  // implements Message ----------------------------------------------
+
+  ReceiveInteraction* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ReceiveInteraction& from);
+  void MergeFrom(const ReceiveInteraction& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 interactionClassHandle = 1;
+  inline bool has_interactionclasshandle() const;
+  inline void clear_interactionclasshandle();
+  static const int kInteractionClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 interactionclasshandle() const;
+  inline void set_interactionclasshandle(::google::protobuf::uint32 value);
+
+  // repeated .ohla.rti.messages.proto.ParameterValue parameterValues = 2;
+  inline int parametervalues_size() const;
+  inline void clear_parametervalues();
+  static const int kParameterValuesFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::ParameterValue& parametervalues(int index) const;
+  inline ::ohla::rti::messages::proto::ParameterValue* mutable_parametervalues(int index);
+  inline ::ohla::rti::messages::proto::ParameterValue* add_parametervalues();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ParameterValue >&
+      parametervalues() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ParameterValue >*
+      mutable_parametervalues();
+
+  // optional bytes tag = 3;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 3;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // required .ohla.rti.proto.OrderType sentOrderType = 4;
+  inline bool has_sentordertype() const;
+  inline void clear_sentordertype();
+  static const int kSentOrderTypeFieldNumber = 4;
+  inline ::ohla::rti::proto::OrderType sentordertype() const;
+  inline void set_sentordertype(::ohla::rti::proto::OrderType value);
+
+  // required .ohla.rti.proto.OrderType receivedOrderType = 5;
+  inline bool has_receivedordertype() const;
+  inline void clear_receivedordertype();
+  static const int kReceivedOrderTypeFieldNumber = 5;
+  inline ::ohla::rti::proto::OrderType receivedordertype() const;
+  inline void set_receivedordertype(::ohla::rti::proto::OrderType value);
+
+  // required uint32 transportationTypeHandle = 6;
+  inline bool has_transportationtypehandle() const;
+  inline void clear_transportationtypehandle();
+  static const int kTransportationTypeHandleFieldNumber = 6;
+  inline ::google::protobuf::uint32 transportationtypehandle() const;
+  inline void set_transportationtypehandle(::google::protobuf::uint32 value);
+
+  // optional bytes time = 7;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 7;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 8;
+  inline bool has_messageretractionhandle() const;
+  inline void clear_messageretractionhandle();
+  static const int kMessageRetractionHandleFieldNumber = 8;
+  inline const ::ohla::rti::proto::MessageRetractionHandle& messageretractionhandle() const;
+  inline ::ohla::rti::proto::MessageRetractionHandle* mutable_messageretractionhandle();
+  inline ::ohla::rti::proto::MessageRetractionHandle* release_messageretractionhandle();
+  inline void set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle);
+
+  // required uint32 producingFederateHandle = 9;
+  inline bool has_producingfederatehandle() const;
+  inline void clear_producingfederatehandle();
+  static const int kProducingFederateHandleFieldNumber = 9;
+  inline ::google::protobuf::uint32 producingfederatehandle() const;
+  inline void set_producingfederatehandle(::google::protobuf::uint32 value);
+
+  // repeated .ohla.rti.messages.proto.Region regions = 10;
+  inline int regions_size() const;
+  inline void clear_regions();
+  static const int kRegionsFieldNumber = 10;
+  inline const ::ohla::rti::messages::proto::Region& regions(int index) const;
+  inline ::ohla::rti::messages::proto::Region* mutable_regions(int index);
+  inline ::ohla::rti::messages::proto::Region* add_regions();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::Region >&
+      regions() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::Region >*
+      mutable_regions();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ReceiveInteraction)
+ private:
+  inline void set_has_interactionclasshandle();
+  inline void clear_has_interactionclasshandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+  inline void set_has_sentordertype();
+  inline void clear_has_sentordertype();
+  inline void set_has_receivedordertype();
+  inline void clear_has_receivedordertype();
+  inline void set_has_transportationtypehandle();
+  inline void clear_has_transportationtypehandle();
+  inline void set_has_time();
+  inline void clear_has_time();
+  inline void set_has_messageretractionhandle();
+  inline void clear_has_messageretractionhandle();
+  inline void set_has_producingfederatehandle();
+  inline void clear_has_producingfederatehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ParameterValue > parametervalues_;
+  ::google::protobuf::uint32 interactionclasshandle_;
+  int sentordertype_;
+  ::std::string* tag_;
+  int receivedordertype_;
+  ::google::protobuf::uint32 transportationtypehandle_;
+  ::std::string* time_;
+  ::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::Region > regions_;
+  ::google::protobuf::uint32 producingfederatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(10 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ReceiveInteraction* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestAttributeOwnershipAssumption : public ::google::protobuf::Message {
+ public:
+  RequestAttributeOwnershipAssumption();
+  virtual ~RequestAttributeOwnershipAssumption();
+
+  RequestAttributeOwnershipAssumption(const RequestAttributeOwnershipAssumption& from);
+
+  inline RequestAttributeOwnershipAssumption& operator=(const RequestAttributeOwnershipAssumption& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestAttributeOwnershipAssumption& default_instance();
+
+  void Swap(RequestAttributeOwnershipAssumption* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestAttributeOwnershipAssumption* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestAttributeOwnershipAssumption& from);
+  void MergeFrom(const RequestAttributeOwnershipAssumption& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // optional bytes tag = 3;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 3;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestAttributeOwnershipAssumption)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::std::string* tag_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestAttributeOwnershipAssumption* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestDivestitureConfirmation : public ::google::protobuf::Message {
+ public:
+  RequestDivestitureConfirmation();
+  virtual ~RequestDivestitureConfirmation();
+
+  RequestDivestitureConfirmation(const RequestDivestitureConfirmation& from);
+
+  inline RequestDivestitureConfirmation& operator=(const RequestDivestitureConfirmation& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestDivestitureConfirmation& default_instance();
+
+  void Swap(RequestDivestitureConfirmation* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestDivestitureConfirmation* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestDivestitureConfirmation& from);
+  void MergeFrom(const RequestDivestitureConfirmation& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestDivestitureConfirmation)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestDivestitureConfirmation* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AttributeOwnershipAcquisitionNotification : public ::google::protobuf::Message {
+ public:
+  AttributeOwnershipAcquisitionNotification();
+  virtual ~AttributeOwnershipAcquisitionNotification();
+
+  AttributeOwnershipAcquisitionNotification(const AttributeOwnershipAcquisitionNotification& from);
+
+  inline AttributeOwnershipAcquisitionNotification& operator=(const AttributeOwnershipAcquisitionNotification& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AttributeOwnershipAcquisitionNotification& default_instance();
+
+  void Swap(AttributeOwnershipAcquisitionNotification* other);
+
+  // implements Message ----------------------------------------------
+
+  AttributeOwnershipAcquisitionNotification* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AttributeOwnershipAcquisitionNotification& from);
+  void MergeFrom(const AttributeOwnershipAcquisitionNotification& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // optional bytes tag = 3;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 3;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AttributeOwnershipAcquisitionNotification)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::std::string* tag_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AttributeOwnershipAcquisitionNotification* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AttributeOwnershipUnavailable : public ::google::protobuf::Message {
+ public:
+  AttributeOwnershipUnavailable();
+  virtual ~AttributeOwnershipUnavailable();
+
+  AttributeOwnershipUnavailable(const AttributeOwnershipUnavailable& from);
+
+  inline AttributeOwnershipUnavailable& operator=(const AttributeOwnershipUnavailable& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AttributeOwnershipUnavailable& default_instance();
+
+  void Swap(AttributeOwnershipUnavailable* other);
+
+  // implements Message ----------------------------------------------
+
+  AttributeOwnershipUnavailable* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AttributeOwnershipUnavailable& from);
+  void MergeFrom(const AttributeOwnershipUnavailable& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AttributeOwnershipUnavailable)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AttributeOwnershipUnavailable* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestAttributeOwnershipRelease : public ::google::protobuf::Message {
+ public:
+  RequestAttributeOwnershipRelease();
+  virtual ~RequestAttributeOwnershipRelease();
+
+  RequestAttributeOwnershipRelease(const RequestAttributeOwnershipRelease& from);
+
+  inline RequestAttributeOwnershipRelease& operator=(const RequestAttributeOwnershipRelease& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestAttributeOwnershipRelease& default_instance();
+
+  void Swap(RequestAttributeOwnershipRelease* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestAttributeOwnershipRelease* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestAttributeOwnershipRelease& from);
+  void MergeFrom(const RequestAttributeOwnershipRelease& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // optional bytes tag = 3;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 3;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestAttributeOwnershipRelease)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::std::string* tag_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestAttributeOwnershipRelease* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ConfirmAttributeOwnershipAcquisitionCancellation : public ::google::protobuf::Message {
+ public:
+  ConfirmAttributeOwnershipAcquisitionCancellation();
+  virtual ~ConfirmAttributeOwnershipAcquisitionCancellation();
+
+  ConfirmAttributeOwnershipAcquisitionCancellation(const ConfirmAttributeOwnershipAcquisitionCancellation& from);
+
+  inline ConfirmAttributeOwnershipAcquisitionCancellation& operator=(const ConfirmAttributeOwnershipAcquisitionCancellation& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ConfirmAttributeOwnershipAcquisitionCancellation& default_instance();
+
+  void Swap(ConfirmAttributeOwnershipAcquisitionCancellation* other);
+
+  // implements Message ----------------------------------------------
+
+  ConfirmAttributeOwnershipAcquisitionCancellation* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ConfirmAttributeOwnershipAcquisitionCancellation& from);
+  void MergeFrom(const ConfirmAttributeOwnershipAcquisitionCancellation& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ConfirmAttributeOwnershipAcquisitionCancellation)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ConfirmAttributeOwnershipAcquisitionCancellation* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class InformAttributeOwnership : public ::google::protobuf::Message {
+ public:
+  InformAttributeOwnership();
+  virtual ~InformAttributeOwnership();
+
+  InformAttributeOwnership(const InformAttributeOwnership& from);
+
+  inline InformAttributeOwnership& operator=(const InformAttributeOwnership& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const InformAttributeOwnership& default_instance();
+
+  void Swap(InformAttributeOwnership* other);
+
+  // implements Message ----------------------------------------------
+
+  InformAttributeOwnership* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const InformAttributeOwnership& from);
+  void MergeFrom(const InformAttributeOwnership& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // required uint32 attributeHandle = 2;
+  inline bool has_attributehandle() const;
+  inline void clear_attributehandle();
+  static const int kAttributeHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandle() const;
+  inline void set_attributehandle(::google::protobuf::uint32 value);
+
+  // required uint32 federateHandle = 3;
+  inline bool has_federatehandle() const;
+  inline void clear_federatehandle();
+  static const int kFederateHandleFieldNumber = 3;
+  inline ::google::protobuf::uint32 federatehandle() const;
+  inline void set_federatehandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.InformAttributeOwnership)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_attributehandle();
+  inline void clear_has_attributehandle();
+  inline void set_has_federatehandle();
+  inline void clear_has_federatehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::uint32 attributehandle_;
+  ::google::protobuf::uint32 federatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static InformAttributeOwnership* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AttributeIsNotOwned : public ::google::protobuf::Message {
+ public:
+  AttributeIsNotOwned();
+  virtual ~AttributeIsNotOwned();
+
+  AttributeIsNotOwned(const AttributeIsNotOwned& from);
+
+  inline AttributeIsNotOwned& operator=(const AttributeIsNotOwned& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AttributeIsNotOwned& default_instance();
+
+  void Swap(AttributeIsNotOwned* other);
+
+  // implements Message ----------------------------------------------
+
+  AttributeIsNotOwned* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AttributeIsNotOwned& from);
+  void MergeFrom(const AttributeIsNotOwned& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // required uint32 attributeHandle = 2;
+  inline bool has_attributehandle() const;
+  inline void clear_attributehandle();
+  static const int kAttributeHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandle() const;
+  inline void set_attributehandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AttributeIsNotOwned)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_attributehandle();
+  inline void clear_has_attributehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::uint32 attributehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AttributeIsNotOwned* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AttributeIsOwnedByRTI : public ::google::protobuf::Message {
+ public:
+  AttributeIsOwnedByRTI();
+  virtual ~AttributeIsOwnedByRTI();
+
+  AttributeIsOwnedByRTI(const AttributeIsOwnedByRTI& from);
+
+  inline AttributeIsOwnedByRTI& operator=(const AttributeIsOwnedByRTI& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AttributeIsOwnedByRTI& default_instance();
+
+  void Swap(AttributeIsOwnedByRTI* other);
+
+  // implements Message ----------------------------------------------
+
+  AttributeIsOwnedByRTI* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AttributeIsOwnedByRTI& from);
+  void MergeFrom(const AttributeIsOwnedByRTI& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // required uint32 attributeHandle = 2;
+  inline bool has_attributehandle() const;
+  inline void clear_attributehandle();
+  static const int kAttributeHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandle() const;
+  inline void set_attributehandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AttributeIsOwnedByRTI)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_attributehandle();
+  inline void clear_has_attributehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::uint32 attributehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AttributeIsOwnedByRTI* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class TimeRegulationEnabled : public ::google::protobuf::Message {
+ public:
+  TimeRegulationEnabled();
+  virtual ~TimeRegulationEnabled();
+
+  TimeRegulationEnabled(const TimeRegulationEnabled& from);
+
+  inline TimeRegulationEnabled& operator=(const TimeRegulationEnabled& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const TimeRegulationEnabled& default_instance();
+
+  void Swap(TimeRegulationEnabled* other);
+
+  // implements Message ----------------------------------------------
+
+  TimeRegulationEnabled* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const TimeRegulationEnabled& from);
+  void MergeFrom(const TimeRegulationEnabled& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required bytes time = 1;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 1;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.TimeRegulationEnabled)
+ private:
+  inline void set_has_time();
+  inline void clear_has_time();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* time_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static TimeRegulationEnabled* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class TimeConstrainedEnabled : public ::google::protobuf::Message {
+ public:
+  TimeConstrainedEnabled();
+  virtual ~TimeConstrainedEnabled();
+
+  TimeConstrainedEnabled(const TimeConstrainedEnabled& from);
+
+  inline TimeConstrainedEnabled& operator=(const TimeConstrainedEnabled& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const TimeConstrainedEnabled& default_instance();
+
+  void Swap(TimeConstrainedEnabled* other);
+
+  // implements Message ----------------------------------------------
+
+  TimeConstrainedEnabled* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const TimeConstrainedEnabled& from);
+  void MergeFrom(const TimeConstrainedEnabled& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required bytes time = 1;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 1;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.TimeConstrainedEnabled)
+ private:
+  inline void set_has_time();
+  inline void clear_has_time();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* time_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static TimeConstrainedEnabled* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class TimeAdvanceGrant : public ::google::protobuf::Message {
+ public:
+  TimeAdvanceGrant();
+  virtual ~TimeAdvanceGrant();
+
+  TimeAdvanceGrant(const TimeAdvanceGrant& from);
+
+  inline TimeAdvanceGrant& operator=(const TimeAdvanceGrant& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const TimeAdvanceGrant& default_instance();
+
+  void Swap(TimeAdvanceGrant* other);
+
+  // implements Message ----------------------------------------------
+
+  TimeAdvanceGrant* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const TimeAdvanceGrant& from);
+  void MergeFrom(const TimeAdvanceGrant& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required bytes time = 1;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 1;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.TimeAdvanceGrant)
+ private:
+  inline void set_has_time();
+  inline void clear_has_time();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* time_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static TimeAdvanceGrant* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestRetraction : public ::google::protobuf::Message {
+ public:
+  RequestRetraction();
+  virtual ~RequestRetraction();
+
+  RequestRetraction(const RequestRetraction& from);
+
+  inline RequestRetraction& operator=(const RequestRetraction& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestRetraction& default_instance();
+
+  void Swap(RequestRetraction* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestRetraction* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestRetraction& from);
+  void MergeFrom(const RequestRetraction& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 1;
+  inline bool has_messageretractionhandle() const;
+  inline void clear_messageretractionhandle();
+  static const int kMessageRetractionHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::MessageRetractionHandle& messageretractionhandle() const;
+  inline ::ohla::rti::proto::MessageRetractionHandle* mutable_messageretractionhandle();
+  inline ::ohla::rti::proto::MessageRetractionHandle* release_messageretractionhandle();
+  inline void set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestRetraction)
+ private:
+  inline void set_has_messageretractionhandle();
+  inline void clear_has_messageretractionhandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestRetraction* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ResignedFederationExecution : public ::google::protobuf::Message {
+ public:
+  ResignedFederationExecution();
+  virtual ~ResignedFederationExecution();
+
+  ResignedFederationExecution(const ResignedFederationExecution& from);
+
+  inline ResignedFederationExecution& operator=(const ResignedFederationExecution& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ResignedFederationExecution& default_instance();
+
+  void Swap(ResignedFederationExecution* other);
+
+  // implements Message ----------------------------------------------
+
+  ResignedFederationExecution* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ResignedFederationExecution& from);
+  void MergeFrom(const ResignedFederationExecution& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ResignedFederationExecution)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederateMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederateMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ResignedFederationExecution* default_instance_;
+};
+// ===================================================================
+
+
+// ===================================================================
+
+// FDDUpdated
+
+// required .ohla.rti.proto.FDD fdd = 1;
+inline bool FDDUpdated::has_fdd() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FDDUpdated::set_has_fdd() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FDDUpdated::clear_has_fdd() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FDDUpdated::clear_fdd() {
+  if (fdd_ != NULL) fdd_->::ohla::rti::proto::FDD::Clear();
+  clear_has_fdd();
+}
+inline const ::ohla::rti::proto::FDD& FDDUpdated::fdd() const {
+  return fdd_ != NULL ? *fdd_ : *default_instance_->fdd_;
+}
+inline ::ohla::rti::proto::FDD* FDDUpdated::mutable_fdd() {
+  set_has_fdd();
+  if (fdd_ == NULL) fdd_ = new ::ohla::rti::proto::FDD;
+  return fdd_;
+}
+inline ::ohla::rti::proto::FDD* FDDUpdated::release_fdd() {
+  clear_has_fdd();
+  ::ohla::rti::proto::FDD* temp = fdd_;
+  fdd_ = NULL;
+  return temp;
+}
+inline void FDDUpdated::set_allocated_fdd(::ohla::rti::proto::FDD* fdd) {
+  delete fdd_;
+  fdd_ = fdd;
+  if (fdd) {
+    set_has_fdd();
+  } else {
+    clear_has_fdd();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// JoinFederationExecutionResponse_Success
+
+// required string federateName = 1;
+inline bool JoinFederationExecutionResponse_Success::has_federatename() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void JoinFederationExecutionResponse_Success::set_has_federatename() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void JoinFederationExecutionResponse_Success::clear_has_federatename() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void JoinFederationExecutionResponse_Success::clear_federatename() {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    federatename_->clear();
+  }
+  clear_has_federatename();
+}
+inline const ::std::string& JoinFederationExecutionResponse_Success::federatename() const {
+  return *federatename_;
+}
+inline void JoinFederationExecutionResponse_Success::set_federatename(const ::std::string& value) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(value);
+}
+inline void JoinFederationExecutionResponse_Success::set_federatename(const char* value) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(value);
+}
+inline void JoinFederationExecutionResponse_Success::set_federatename(const char* value, size_t size) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* JoinFederationExecutionResponse_Success::mutable_federatename() {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  return federatename_;
+}
+inline ::std::string* JoinFederationExecutionResponse_Success::release_federatename() {
+  clear_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federatename_;
+    federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void JoinFederationExecutionResponse_Success::set_allocated_federatename(::std::string* federatename) {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatename_;
+  }
+  if (federatename) {
+    set_has_federatename();
+    federatename_ = federatename;
+  } else {
+    clear_has_federatename();
+    federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required uint32 federateHandle = 2;
+inline bool JoinFederationExecutionResponse_Success::has_federatehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void JoinFederationExecutionResponse_Success::set_has_federatehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void JoinFederationExecutionResponse_Success::clear_has_federatehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void JoinFederationExecutionResponse_Success::clear_federatehandle() {
+  federatehandle_ = 0u;
+  clear_has_federatehandle();
+}
+inline ::google::protobuf::uint32 JoinFederationExecutionResponse_Success::federatehandle() const {
+  return federatehandle_;
+}
+inline void JoinFederationExecutionResponse_Success::set_federatehandle(::google::protobuf::uint32 value) {
+  set_has_federatehandle();
+  federatehandle_ = value;
+}
+
+// required .ohla.rti.proto.FDD fdd = 3;
+inline bool JoinFederationExecutionResponse_Success::has_fdd() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void JoinFederationExecutionResponse_Success::set_has_fdd() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void JoinFederationExecutionResponse_Success::clear_has_fdd() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void JoinFederationExecutionResponse_Success::clear_fdd() {
+  if (fdd_ != NULL) fdd_->::ohla::rti::proto::FDD::Clear();
+  clear_has_fdd();
+}
+inline const ::ohla::rti::proto::FDD& JoinFederationExecutionResponse_Success::fdd() const {
+  return fdd_ != NULL ? *fdd_ : *default_instance_->fdd_;
+}
+inline ::ohla::rti::proto::FDD* JoinFederationExecutionResponse_Success::mutable_fdd() {
+  set_has_fdd();
+  if (fdd_ == NULL) fdd_ = new ::ohla::rti::proto::FDD;
+  return fdd_;
+}
+inline ::ohla::rti::proto::FDD* JoinFederationExecutionResponse_Success::release_fdd() {
+  clear_has_fdd();
+  ::ohla::rti::proto::FDD* temp = fdd_;
+  fdd_ = NULL;
+  return temp;
+}
+inline void JoinFederationExecutionResponse_Success::set_allocated_fdd(::ohla::rti::proto::FDD* fdd) {
+  delete fdd_;
+  fdd_ = fdd;
+  if (fdd) {
+    set_has_fdd();
+  } else {
+    clear_has_fdd();
+  }
+}
+
+// required string logicalTimeImplementationName = 4;
+inline bool JoinFederationExecutionResponse_Success::has_logicaltimeimplementationname() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void JoinFederationExecutionResponse_Success::set_has_logicaltimeimplementationname() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void JoinFederationExecutionResponse_Success::clear_has_logicaltimeimplementationname() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void JoinFederationExecutionResponse_Success::clear_logicaltimeimplementationname() {
+  if (logicaltimeimplementationname_ != &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_->clear();
+  }
+  clear_has_logicaltimeimplementationname();
+}
+inline const ::std::string& JoinFederationExecutionResponse_Success::logicaltimeimplementationname() const {
+  return *logicaltimeimplementationname_;
+}
+inline void JoinFederationExecutionResponse_Success::set_logicaltimeimplementationname(const ::std::string& value) {
+  set_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_ = new ::std::string;
+  }
+  logicaltimeimplementationname_->assign(value);
+}
+inline void JoinFederationExecutionResponse_Success::set_logicaltimeimplementationname(const char* value) {
+  set_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_ = new ::std::string;
+  }
+  logicaltimeimplementationname_->assign(value);
+}
+inline void JoinFederationExecutionResponse_Success::set_logicaltimeimplementationname(const char* value, size_t size) {
+  set_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_ = new ::std::string;
+  }
+  logicaltimeimplementationname_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* JoinFederationExecutionResponse_Success::mutable_logicaltimeimplementationname() {
+  set_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_ = new ::std::string;
+  }
+  return logicaltimeimplementationname_;
+}
+inline ::std::string* JoinFederationExecutionResponse_Success::release_logicaltimeimplementationname() {
+  clear_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = logicaltimeimplementationname_;
+    logicaltimeimplementationname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void JoinFederationExecutionResponse_Success::set_allocated_logicaltimeimplementationname(::std::string* logicaltimeimplementationname) {
+  if (logicaltimeimplementationname_ != &::google::protobuf::internal::kEmptyString) {
+    delete logicaltimeimplementationname_;
+  }
+  if (logicaltimeimplementationname) {
+    set_has_logicaltimeimplementationname();
+    logicaltimeimplementationname_ = logicaltimeimplementationname;
+  } else {
+    clear_has_logicaltimeimplementationname();
+    logicaltimeimplementationname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// JoinFederationExecutionResponse_Failure
+
+// required .ohla.rti.messages.proto.JoinFederationExecutionResponse.Failure.Cause cause = 1;
+inline bool JoinFederationExecutionResponse_Failure::has_cause() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void JoinFederationExecutionResponse_Failure::set_has_cause() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void JoinFederationExecutionResponse_Failure::clear_has_cause() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void JoinFederationExecutionResponse_Failure::clear_cause() {
+  cause_ = 2;
+  clear_has_cause();
+}
+inline ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure_Cause JoinFederationExecutionResponse_Failure::cause() const {
+  return static_cast< ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure_Cause >(cause_);
+}
+inline void JoinFederationExecutionResponse_Failure::set_cause(::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure_Cause value) {
+  assert(::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure_Cause_IsValid(value));
+  set_has_cause();
+  cause_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// JoinFederationExecutionResponse
+
+// optional .ohla.rti.messages.proto.JoinFederationExecutionResponse.Success success = 1;
+inline bool JoinFederationExecutionResponse::has_success() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void JoinFederationExecutionResponse::set_has_success() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void JoinFederationExecutionResponse::clear_has_success() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void JoinFederationExecutionResponse::clear_success() {
+  if (success_ != NULL) success_->::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success::Clear();
+  clear_has_success();
+}
+inline const ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success& JoinFederationExecutionResponse::success() const {
+  return success_ != NULL ? *success_ : *default_instance_->success_;
+}
+inline ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success* JoinFederationExecutionResponse::mutable_success() {
+  set_has_success();
+  if (success_ == NULL) success_ = new ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success;
+  return success_;
+}
+inline ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success* JoinFederationExecutionResponse::release_success() {
+  clear_has_success();
+  ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success* temp = success_;
+  success_ = NULL;
+  return temp;
+}
+inline void JoinFederationExecutionResponse::set_allocated_success(::ohla::rti::messages::proto::JoinFederationExecutionResponse_Success* success) {
+  delete success_;
+  success_ = success;
+  if (success) {
+    set_has_success();
+  } else {
+    clear_has_success();
+  }
+}
+
+// optional .ohla.rti.messages.proto.JoinFederationExecutionResponse.Failure failure = 2;
+inline bool JoinFederationExecutionResponse::has_failure() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void JoinFederationExecutionResponse::set_has_failure() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void JoinFederationExecutionResponse::clear_has_failure() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void JoinFederationExecutionResponse::clear_failure() {
+  if (failure_ != NULL) failure_->::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure::Clear();
+  clear_has_failure();
+}
+inline const ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure& JoinFederationExecutionResponse::failure() const {
+  return failure_ != NULL ? *failure_ : *default_instance_->failure_;
+}
+inline ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure* JoinFederationExecutionResponse::mutable_failure() {
+  set_has_failure();
+  if (failure_ == NULL) failure_ = new ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure;
+  return failure_;
+}
+inline ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure* JoinFederationExecutionResponse::release_failure() {
+  clear_has_failure();
+  ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure* temp = failure_;
+  failure_ = NULL;
+  return temp;
+}
+inline void JoinFederationExecutionResponse::set_allocated_failure(::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure* failure) {
+  delete failure_;
+  failure_ = failure;
+  if (failure) {
+    set_has_failure();
+  } else {
+    clear_has_failure();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// RequestFederationSaveResponse_Failure
+
+// required .ohla.rti.messages.proto.RequestFederationSaveResponse.Failure.Cause cause = 1;
+inline bool RequestFederationSaveResponse_Failure::has_cause() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestFederationSaveResponse_Failure::set_has_cause() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestFederationSaveResponse_Failure::clear_has_cause() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestFederationSaveResponse_Failure::clear_cause() {
+  cause_ = 1;
+  clear_has_cause();
+}
+inline ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure_Cause RequestFederationSaveResponse_Failure::cause() const {
+  return static_cast< ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure_Cause >(cause_);
+}
+inline void RequestFederationSaveResponse_Failure::set_cause(::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure_Cause value) {
+  assert(::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure_Cause_IsValid(value));
+  set_has_cause();
+  cause_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// RequestFederationSaveResponse
+
+// required uint64 requestId = 1;
+inline bool RequestFederationSaveResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestFederationSaveResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestFederationSaveResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestFederationSaveResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 RequestFederationSaveResponse::requestid() const {
+  return requestid_;
+}
+inline void RequestFederationSaveResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// optional .ohla.rti.messages.proto.RequestFederationSaveResponse.Failure failure = 2;
+inline bool RequestFederationSaveResponse::has_failure() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void RequestFederationSaveResponse::set_has_failure() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void RequestFederationSaveResponse::clear_has_failure() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void RequestFederationSaveResponse::clear_failure() {
+  if (failure_ != NULL) failure_->::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure::Clear();
+  clear_has_failure();
+}
+inline const ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure& RequestFederationSaveResponse::failure() const {
+  return failure_ != NULL ? *failure_ : *default_instance_->failure_;
+}
+inline ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure* RequestFederationSaveResponse::mutable_failure() {
+  set_has_failure();
+  if (failure_ == NULL) failure_ = new ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure;
+  return failure_;
+}
+inline ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure* RequestFederationSaveResponse::release_failure() {
+  clear_has_failure();
+  ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure* temp = failure_;
+  failure_ = NULL;
+  return temp;
+}
+inline void RequestFederationSaveResponse::set_allocated_failure(::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure* failure) {
+  delete failure_;
+  failure_ = failure;
+  if (failure) {
+    set_has_failure();
+  } else {
+    clear_has_failure();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// AbortFederationSaveResponse_Failure
+
+// required .ohla.rti.messages.proto.AbortFederationSaveResponse.Failure.Cause cause = 1;
+inline bool AbortFederationSaveResponse_Failure::has_cause() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AbortFederationSaveResponse_Failure::set_has_cause() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AbortFederationSaveResponse_Failure::clear_has_cause() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AbortFederationSaveResponse_Failure::clear_cause() {
+  cause_ = 1;
+  clear_has_cause();
+}
+inline ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure_Cause AbortFederationSaveResponse_Failure::cause() const {
+  return static_cast< ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure_Cause >(cause_);
+}
+inline void AbortFederationSaveResponse_Failure::set_cause(::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure_Cause value) {
+  assert(::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure_Cause_IsValid(value));
+  set_has_cause();
+  cause_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// AbortFederationSaveResponse
+
+// required uint64 requestId = 1;
+inline bool AbortFederationSaveResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AbortFederationSaveResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AbortFederationSaveResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AbortFederationSaveResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 AbortFederationSaveResponse::requestid() const {
+  return requestid_;
+}
+inline void AbortFederationSaveResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// optional .ohla.rti.messages.proto.AbortFederationSaveResponse.Failure failure = 2;
+inline bool AbortFederationSaveResponse::has_failure() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void AbortFederationSaveResponse::set_has_failure() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void AbortFederationSaveResponse::clear_has_failure() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void AbortFederationSaveResponse::clear_failure() {
+  if (failure_ != NULL) failure_->::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure::Clear();
+  clear_has_failure();
+}
+inline const ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure& AbortFederationSaveResponse::failure() const {
+  return failure_ != NULL ? *failure_ : *default_instance_->failure_;
+}
+inline ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure* AbortFederationSaveResponse::mutable_failure() {
+  set_has_failure();
+  if (failure_ == NULL) failure_ = new ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure;
+  return failure_;
+}
+inline ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure* AbortFederationSaveResponse::release_failure() {
+  clear_has_failure();
+  ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure* temp = failure_;
+  failure_ = NULL;
+  return temp;
+}
+inline void AbortFederationSaveResponse::set_allocated_failure(::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure* failure) {
+  delete failure_;
+  failure_ = failure;
+  if (failure) {
+    set_has_failure();
+  } else {
+    clear_has_failure();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// RequestFederationRestoreResponse_Failure
+
+// required .ohla.rti.messages.proto.RequestFederationRestoreResponse.Failure.Cause cause = 1;
+inline bool RequestFederationRestoreResponse_Failure::has_cause() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestFederationRestoreResponse_Failure::set_has_cause() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestFederationRestoreResponse_Failure::clear_has_cause() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestFederationRestoreResponse_Failure::clear_cause() {
+  cause_ = 1;
+  clear_has_cause();
+}
+inline ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure_Cause RequestFederationRestoreResponse_Failure::cause() const {
+  return static_cast< ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure_Cause >(cause_);
+}
+inline void RequestFederationRestoreResponse_Failure::set_cause(::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure_Cause value) {
+  assert(::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure_Cause_IsValid(value));
+  set_has_cause();
+  cause_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// RequestFederationRestoreResponse
+
+// required uint64 requestId = 1;
+inline bool RequestFederationRestoreResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestFederationRestoreResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestFederationRestoreResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestFederationRestoreResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 RequestFederationRestoreResponse::requestid() const {
+  return requestid_;
+}
+inline void RequestFederationRestoreResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// optional .ohla.rti.messages.proto.RequestFederationRestoreResponse.Failure failure = 2;
+inline bool RequestFederationRestoreResponse::has_failure() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void RequestFederationRestoreResponse::set_has_failure() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void RequestFederationRestoreResponse::clear_has_failure() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void RequestFederationRestoreResponse::clear_failure() {
+  if (failure_ != NULL) failure_->::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure::Clear();
+  clear_has_failure();
+}
+inline const ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure& RequestFederationRestoreResponse::failure() const {
+  return failure_ != NULL ? *failure_ : *default_instance_->failure_;
+}
+inline ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure* RequestFederationRestoreResponse::mutable_failure() {
+  set_has_failure();
+  if (failure_ == NULL) failure_ = new ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure;
+  return failure_;
+}
+inline ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure* RequestFederationRestoreResponse::release_failure() {
+  clear_has_failure();
+  ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure* temp = failure_;
+  failure_ = NULL;
+  return temp;
+}
+inline void RequestFederationRestoreResponse::set_allocated_failure(::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure* failure) {
+  delete failure_;
+  failure_ = failure;
+  if (failure) {
+    set_has_failure();
+  } else {
+    clear_has_failure();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// AbortFederationRestoreResponse_Failure
+
+// required .ohla.rti.messages.proto.AbortFederationRestoreResponse.Failure.Cause cause = 1;
+inline bool AbortFederationRestoreResponse_Failure::has_cause() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AbortFederationRestoreResponse_Failure::set_has_cause() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AbortFederationRestoreResponse_Failure::clear_has_cause() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AbortFederationRestoreResponse_Failure::clear_cause() {
+  cause_ = 1;
+  clear_has_cause();
+}
+inline ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure_Cause AbortFederationRestoreResponse_Failure::cause() const {
+  return static_cast< ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure_Cause >(cause_);
+}
+inline void AbortFederationRestoreResponse_Failure::set_cause(::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure_Cause value) {
+  assert(::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure_Cause_IsValid(value));
+  set_has_cause();
+  cause_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// AbortFederationRestoreResponse
+
+// required uint64 requestId = 1;
+inline bool AbortFederationRestoreResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AbortFederationRestoreResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AbortFederationRestoreResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AbortFederationRestoreResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 AbortFederationRestoreResponse::requestid() const {
+  return requestid_;
+}
+inline void AbortFederationRestoreResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// optional .ohla.rti.messages.proto.AbortFederationRestoreResponse.Failure failure = 2;
+inline bool AbortFederationRestoreResponse::has_failure() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void AbortFederationRestoreResponse::set_has_failure() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void AbortFederationRestoreResponse::clear_has_failure() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void AbortFederationRestoreResponse::clear_failure() {
+  if (failure_ != NULL) failure_->::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure::Clear();
+  clear_has_failure();
+}
+inline const ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure& AbortFederationRestoreResponse::failure() const {
+  return failure_ != NULL ? *failure_ : *default_instance_->failure_;
+}
+inline ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure* AbortFederationRestoreResponse::mutable_failure() {
+  set_has_failure();
+  if (failure_ == NULL) failure_ = new ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure;
+  return failure_;
+}
+inline ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure* AbortFederationRestoreResponse::release_failure() {
+  clear_has_failure();
+  ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure* temp = failure_;
+  failure_ = NULL;
+  return temp;
+}
+inline void AbortFederationRestoreResponse::set_allocated_failure(::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure* failure) {
+  delete failure_;
+  failure_ = failure;
+  if (failure) {
+    set_has_failure();
+  } else {
+    clear_has_failure();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// ObjectInstanceNameReservationSucceeded
+
+// required string objectInstanceName = 1;
+inline bool ObjectInstanceNameReservationSucceeded::has_objectinstancename() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ObjectInstanceNameReservationSucceeded::set_has_objectinstancename() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ObjectInstanceNameReservationSucceeded::clear_has_objectinstancename() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ObjectInstanceNameReservationSucceeded::clear_objectinstancename() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_->clear();
+  }
+  clear_has_objectinstancename();
+}
+inline const ::std::string& ObjectInstanceNameReservationSucceeded::objectinstancename() const {
+  return *objectinstancename_;
+}
+inline void ObjectInstanceNameReservationSucceeded::set_objectinstancename(const ::std::string& value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void ObjectInstanceNameReservationSucceeded::set_objectinstancename(const char* value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void ObjectInstanceNameReservationSucceeded::set_objectinstancename(const char* value, size_t size) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ObjectInstanceNameReservationSucceeded::mutable_objectinstancename() {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  return objectinstancename_;
+}
+inline ::std::string* ObjectInstanceNameReservationSucceeded::release_objectinstancename() {
+  clear_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = objectinstancename_;
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void ObjectInstanceNameReservationSucceeded::set_allocated_objectinstancename(::std::string* objectinstancename) {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (objectinstancename) {
+    set_has_objectinstancename();
+    objectinstancename_ = objectinstancename;
+  } else {
+    clear_has_objectinstancename();
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// ObjectInstanceNameReservationFailed
+
+// required string objectInstanceName = 1;
+inline bool ObjectInstanceNameReservationFailed::has_objectinstancename() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ObjectInstanceNameReservationFailed::set_has_objectinstancename() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ObjectInstanceNameReservationFailed::clear_has_objectinstancename() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ObjectInstanceNameReservationFailed::clear_objectinstancename() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_->clear();
+  }
+  clear_has_objectinstancename();
+}
+inline const ::std::string& ObjectInstanceNameReservationFailed::objectinstancename() const {
+  return *objectinstancename_;
+}
+inline void ObjectInstanceNameReservationFailed::set_objectinstancename(const ::std::string& value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void ObjectInstanceNameReservationFailed::set_objectinstancename(const char* value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void ObjectInstanceNameReservationFailed::set_objectinstancename(const char* value, size_t size) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ObjectInstanceNameReservationFailed::mutable_objectinstancename() {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  return objectinstancename_;
+}
+inline ::std::string* ObjectInstanceNameReservationFailed::release_objectinstancename() {
+  clear_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = objectinstancename_;
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void ObjectInstanceNameReservationFailed::set_allocated_objectinstancename(::std::string* objectinstancename) {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (objectinstancename) {
+    set_has_objectinstancename();
+    objectinstancename_ = objectinstancename;
+  } else {
+    clear_has_objectinstancename();
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// MultipleObjectInstanceNameReservationSucceeded
+
+// repeated string objectInstanceNames = 1;
+inline int MultipleObjectInstanceNameReservationSucceeded::objectinstancenames_size() const {
+  return objectinstancenames_.size();
+}
+inline void MultipleObjectInstanceNameReservationSucceeded::clear_objectinstancenames() {
+  objectinstancenames_.Clear();
+}
+inline const ::std::string& MultipleObjectInstanceNameReservationSucceeded::objectinstancenames(int index) const {
+  return objectinstancenames_.Get(index);
+}
+inline ::std::string* MultipleObjectInstanceNameReservationSucceeded::mutable_objectinstancenames(int index) {
+  return objectinstancenames_.Mutable(index);
+}
+inline void MultipleObjectInstanceNameReservationSucceeded::set_objectinstancenames(int index, const ::std::string& value) {
+  objectinstancenames_.Mutable(index)->assign(value);
+}
+inline void MultipleObjectInstanceNameReservationSucceeded::set_objectinstancenames(int index, const char* value) {
+  objectinstancenames_.Mutable(index)->assign(value);
+}
+inline void MultipleObjectInstanceNameReservationSucceeded::set_objectinstancenames(int index, const char* value, size_t size) {
+  objectinstancenames_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* MultipleObjectInstanceNameReservationSucceeded::add_objectinstancenames() {
+  return objectinstancenames_.Add();
+}
+inline void MultipleObjectInstanceNameReservationSucceeded::add_objectinstancenames(const ::std::string& value) {
+  objectinstancenames_.Add()->assign(value);
+}
+inline void MultipleObjectInstanceNameReservationSucceeded::add_objectinstancenames(const char* value) {
+  objectinstancenames_.Add()->assign(value);
+}
+inline void MultipleObjectInstanceNameReservationSucceeded::add_objectinstancenames(const char* value, size_t size) {
+  objectinstancenames_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+MultipleObjectInstanceNameReservationSucceeded::objectinstancenames() const {
+  return objectinstancenames_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+MultipleObjectInstanceNameReservationSucceeded::mutable_objectinstancenames() {
+  return &objectinstancenames_;
+}
+
+// -------------------------------------------------------------------
+
+// MultipleObjectInstanceNameReservationFailed
+
+// repeated string objectInstanceNames = 1;
+inline int MultipleObjectInstanceNameReservationFailed::objectinstancenames_size() const {
+  return objectinstancenames_.size();
+}
+inline void MultipleObjectInstanceNameReservationFailed::clear_objectinstancenames() {
+  objectinstancenames_.Clear();
+}
+inline const ::std::string& MultipleObjectInstanceNameReservationFailed::objectinstancenames(int index) const {
+  return objectinstancenames_.Get(index);
+}
+inline ::std::string* MultipleObjectInstanceNameReservationFailed::mutable_objectinstancenames(int index) {
+  return objectinstancenames_.Mutable(index);
+}
+inline void MultipleObjectInstanceNameReservationFailed::set_objectinstancenames(int index, const ::std::string& value) {
+  objectinstancenames_.Mutable(index)->assign(value);
+}
+inline void MultipleObjectInstanceNameReservationFailed::set_objectinstancenames(int index, const char* value) {
+  objectinstancenames_.Mutable(index)->assign(value);
+}
+inline void MultipleObjectInstanceNameReservationFailed::set_objectinstancenames(int index, const char* value, size_t size) {
+  objectinstancenames_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* MultipleObjectInstanceNameReservationFailed::add_objectinstancenames() {
+  return objectinstancenames_.Add();
+}
+inline void MultipleObjectInstanceNameReservationFailed::add_objectinstancenames(const ::std::string& value) {
+  objectinstancenames_.Add()->assign(value);
+}
+inline void MultipleObjectInstanceNameReservationFailed::add_objectinstancenames(const char* value) {
+  objectinstancenames_.Add()->assign(value);
+}
+inline void MultipleObjectInstanceNameReservationFailed::add_objectinstancenames(const char* value, size_t size) {
+  objectinstancenames_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+MultipleObjectInstanceNameReservationFailed::objectinstancenames() const {
+  return objectinstancenames_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+MultipleObjectInstanceNameReservationFailed::mutable_objectinstancenames() {
+  return &objectinstancenames_;
+}
+
+// -------------------------------------------------------------------
+
+// ReportInteractionTransportationType
+
+// required uint32 interactionClassHandle = 1;
+inline bool ReportInteractionTransportationType::has_interactionclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ReportInteractionTransportationType::set_has_interactionclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ReportInteractionTransportationType::clear_has_interactionclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ReportInteractionTransportationType::clear_interactionclasshandle() {
+  interactionclasshandle_ = 0u;
+  clear_has_interactionclasshandle();
+}
+inline ::google::protobuf::uint32 ReportInteractionTransportationType::interactionclasshandle() const {
+  return interactionclasshandle_;
+}
+inline void ReportInteractionTransportationType::set_interactionclasshandle(::google::protobuf::uint32 value) {
+  set_has_interactionclasshandle();
+  interactionclasshandle_ = value;
+}
+
+// required uint32 federateHandle = 2;
+inline bool ReportInteractionTransportationType::has_federatehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void ReportInteractionTransportationType::set_has_federatehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void ReportInteractionTransportationType::clear_has_federatehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void ReportInteractionTransportationType::clear_federatehandle() {
+  federatehandle_ = 0u;
+  clear_has_federatehandle();
+}
+inline ::google::protobuf::uint32 ReportInteractionTransportationType::federatehandle() const {
+  return federatehandle_;
+}
+inline void ReportInteractionTransportationType::set_federatehandle(::google::protobuf::uint32 value) {
+  set_has_federatehandle();
+  federatehandle_ = value;
+}
+
+// required uint32 transportationTypeHandle = 3;
+inline bool ReportInteractionTransportationType::has_transportationtypehandle() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void ReportInteractionTransportationType::set_has_transportationtypehandle() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void ReportInteractionTransportationType::clear_has_transportationtypehandle() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void ReportInteractionTransportationType::clear_transportationtypehandle() {
+  transportationtypehandle_ = 0u;
+  clear_has_transportationtypehandle();
+}
+inline ::google::protobuf::uint32 ReportInteractionTransportationType::transportationtypehandle() const {
+  return transportationtypehandle_;
+}
+inline void ReportInteractionTransportationType::set_transportationtypehandle(::google::protobuf::uint32 value) {
+  set_has_transportationtypehandle();
+  transportationtypehandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// GetFederateHandleResponse_Success
+
+// required uint32 federateHandle = 1;
+inline bool GetFederateHandleResponse_Success::has_federatehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void GetFederateHandleResponse_Success::set_has_federatehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void GetFederateHandleResponse_Success::clear_has_federatehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void GetFederateHandleResponse_Success::clear_federatehandle() {
+  federatehandle_ = 0u;
+  clear_has_federatehandle();
+}
+inline ::google::protobuf::uint32 GetFederateHandleResponse_Success::federatehandle() const {
+  return federatehandle_;
+}
+inline void GetFederateHandleResponse_Success::set_federatehandle(::google::protobuf::uint32 value) {
+  set_has_federatehandle();
+  federatehandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// GetFederateHandleResponse_Failure
+
+// required .ohla.rti.messages.proto.GetFederateHandleResponse.Failure.Cause cause = 1;
+inline bool GetFederateHandleResponse_Failure::has_cause() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void GetFederateHandleResponse_Failure::set_has_cause() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void GetFederateHandleResponse_Failure::clear_has_cause() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void GetFederateHandleResponse_Failure::clear_cause() {
+  cause_ = 1;
+  clear_has_cause();
+}
+inline ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure_Cause GetFederateHandleResponse_Failure::cause() const {
+  return static_cast< ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure_Cause >(cause_);
+}
+inline void GetFederateHandleResponse_Failure::set_cause(::ohla::rti::messages::proto::GetFederateHandleResponse_Failure_Cause value) {
+  assert(::ohla::rti::messages::proto::GetFederateHandleResponse_Failure_Cause_IsValid(value));
+  set_has_cause();
+  cause_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// GetFederateHandleResponse
+
+// required uint64 requestId = 1;
+inline bool GetFederateHandleResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void GetFederateHandleResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void GetFederateHandleResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void GetFederateHandleResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 GetFederateHandleResponse::requestid() const {
+  return requestid_;
+}
+inline void GetFederateHandleResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// optional .ohla.rti.messages.proto.GetFederateHandleResponse.Success success = 2;
+inline bool GetFederateHandleResponse::has_success() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void GetFederateHandleResponse::set_has_success() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void GetFederateHandleResponse::clear_has_success() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void GetFederateHandleResponse::clear_success() {
+  if (success_ != NULL) success_->::ohla::rti::messages::proto::GetFederateHandleResponse_Success::Clear();
+  clear_has_success();
+}
+inline const ::ohla::rti::messages::proto::GetFederateHandleResponse_Success& GetFederateHandleResponse::success() const {
+  return success_ != NULL ? *success_ : *default_instance_->success_;
+}
+inline ::ohla::rti::messages::proto::GetFederateHandleResponse_Success* GetFederateHandleResponse::mutable_success() {
+  set_has_success();
+  if (success_ == NULL) success_ = new ::ohla::rti::messages::proto::GetFederateHandleResponse_Success;
+  return success_;
+}
+inline ::ohla::rti::messages::proto::GetFederateHandleResponse_Success* GetFederateHandleResponse::release_success() {
+  clear_has_success();
+  ::ohla::rti::messages::proto::GetFederateHandleResponse_Success* temp = success_;
+  success_ = NULL;
+  return temp;
+}
+inline void GetFederateHandleResponse::set_allocated_success(::ohla::rti::messages::proto::GetFederateHandleResponse_Success* success) {
+  delete success_;
+  success_ = success;
+  if (success) {
+    set_has_success();
+  } else {
+    clear_has_success();
+  }
+}
+
+// optional .ohla.rti.messages.proto.GetFederateHandleResponse.Failure failure = 3;
+inline bool GetFederateHandleResponse::has_failure() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void GetFederateHandleResponse::set_has_failure() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void GetFederateHandleResponse::clear_has_failure() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void GetFederateHandleResponse::clear_failure() {
+  if (failure_ != NULL) failure_->::ohla::rti::messages::proto::GetFederateHandleResponse_Failure::Clear();
+  clear_has_failure();
+}
+inline const ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure& GetFederateHandleResponse::failure() const {
+  return failure_ != NULL ? *failure_ : *default_instance_->failure_;
+}
+inline ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure* GetFederateHandleResponse::mutable_failure() {
+  set_has_failure();
+  if (failure_ == NULL) failure_ = new ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure;
+  return failure_;
+}
+inline ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure* GetFederateHandleResponse::release_failure() {
+  clear_has_failure();
+  ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure* temp = failure_;
+  failure_ = NULL;
+  return temp;
+}
+inline void GetFederateHandleResponse::set_allocated_failure(::ohla::rti::messages::proto::GetFederateHandleResponse_Failure* failure) {
+  delete failure_;
+  failure_ = failure;
+  if (failure) {
+    set_has_failure();
+  } else {
+    clear_has_failure();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// GetFederateNameResponse_Success
+
+// required string federateName = 1;
+inline bool GetFederateNameResponse_Success::has_federatename() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void GetFederateNameResponse_Success::set_has_federatename() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void GetFederateNameResponse_Success::clear_has_federatename() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void GetFederateNameResponse_Success::clear_federatename() {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    federatename_->clear();
+  }
+  clear_has_federatename();
+}
+inline const ::std::string& GetFederateNameResponse_Success::federatename() const {
+  return *federatename_;
+}
+inline void GetFederateNameResponse_Success::set_federatename(const ::std::string& value) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(value);
+}
+inline void GetFederateNameResponse_Success::set_federatename(const char* value) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(value);
+}
+inline void GetFederateNameResponse_Success::set_federatename(const char* value, size_t size) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* GetFederateNameResponse_Success::mutable_federatename() {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  return federatename_;
+}
+inline ::std::string* GetFederateNameResponse_Success::release_federatename() {
+  clear_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federatename_;
+    federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void GetFederateNameResponse_Success::set_allocated_federatename(::std::string* federatename) {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatename_;
+  }
+  if (federatename) {
+    set_has_federatename();
+    federatename_ = federatename;
+  } else {
+    clear_has_federatename();
+    federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// GetFederateNameResponse_Failure
+
+// required .ohla.rti.messages.proto.GetFederateNameResponse.Failure.Cause cause = 1;
+inline bool GetFederateNameResponse_Failure::has_cause() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void GetFederateNameResponse_Failure::set_has_cause() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void GetFederateNameResponse_Failure::clear_has_cause() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void GetFederateNameResponse_Failure::clear_cause() {
+  cause_ = 1;
+  clear_has_cause();
+}
+inline ::ohla::rti::messages::proto::GetFederateNameResponse_Failure_Cause GetFederateNameResponse_Failure::cause() const {
+  return static_cast< ::ohla::rti::messages::proto::GetFederateNameResponse_Failure_Cause >(cause_);
+}
+inline void GetFederateNameResponse_Failure::set_cause(::ohla::rti::messages::proto::GetFederateNameResponse_Failure_Cause value) {
+  assert(::ohla::rti::messages::proto::GetFederateNameResponse_Failure_Cause_IsValid(value));
+  set_has_cause();
+  cause_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// GetFederateNameResponse
+
+// required uint64 requestId = 1;
+inline bool GetFederateNameResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void GetFederateNameResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void GetFederateNameResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void GetFederateNameResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 GetFederateNameResponse::requestid() const {
+  return requestid_;
+}
+inline void GetFederateNameResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// optional .ohla.rti.messages.proto.GetFederateNameResponse.Success success = 2;
+inline bool GetFederateNameResponse::has_success() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void GetFederateNameResponse::set_has_success() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void GetFederateNameResponse::clear_has_success() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void GetFederateNameResponse::clear_success() {
+  if (success_ != NULL) success_->::ohla::rti::messages::proto::GetFederateNameResponse_Success::Clear();
+  clear_has_success();
+}
+inline const ::ohla::rti::messages::proto::GetFederateNameResponse_Success& GetFederateNameResponse::success() const {
+  return success_ != NULL ? *success_ : *default_instance_->success_;
+}
+inline ::ohla::rti::messages::proto::GetFederateNameResponse_Success* GetFederateNameResponse::mutable_success() {
+  set_has_success();
+  if (success_ == NULL) success_ = new ::ohla::rti::messages::proto::GetFederateNameResponse_Success;
+  return success_;
+}
+inline ::ohla::rti::messages::proto::GetFederateNameResponse_Success* GetFederateNameResponse::release_success() {
+  clear_has_success();
+  ::ohla::rti::messages::proto::GetFederateNameResponse_Success* temp = success_;
+  success_ = NULL;
+  return temp;
+}
+inline void GetFederateNameResponse::set_allocated_success(::ohla::rti::messages::proto::GetFederateNameResponse_Success* success) {
+  delete success_;
+  success_ = success;
+  if (success) {
+    set_has_success();
+  } else {
+    clear_has_success();
+  }
+}
+
+// optional .ohla.rti.messages.proto.GetFederateNameResponse.Failure failure = 3;
+inline bool GetFederateNameResponse::has_failure() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void GetFederateNameResponse::set_has_failure() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void GetFederateNameResponse::clear_has_failure() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void GetFederateNameResponse::clear_failure() {
+  if (failure_ != NULL) failure_->::ohla::rti::messages::proto::GetFederateNameResponse_Failure::Clear();
+  clear_has_failure();
+}
+inline const ::ohla::rti::messages::proto::GetFederateNameResponse_Failure& GetFederateNameResponse::failure() const {
+  return failure_ != NULL ? *failure_ : *default_instance_->failure_;
+}
+inline ::ohla::rti::messages::proto::GetFederateNameResponse_Failure* GetFederateNameResponse::mutable_failure() {
+  set_has_failure();
+  if (failure_ == NULL) failure_ = new ::ohla::rti::messages::proto::GetFederateNameResponse_Failure;
+  return failure_;
+}
+inline ::ohla::rti::messages::proto::GetFederateNameResponse_Failure* GetFederateNameResponse::release_failure() {
+  clear_has_failure();
+  ::ohla::rti::messages::proto::GetFederateNameResponse_Failure* temp = failure_;
+  failure_ = NULL;
+  return temp;
+}
+inline void GetFederateNameResponse::set_allocated_failure(::ohla::rti::messages::proto::GetFederateNameResponse_Failure* failure) {
+  delete failure_;
+  failure_ = failure;
+  if (failure) {
+    set_has_failure();
+  } else {
+    clear_has_failure();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// GetUpdateRateValueForAttributeResponse_Success
+
+// required double updateRate = 1;
+inline bool GetUpdateRateValueForAttributeResponse_Success::has_updaterate() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void GetUpdateRateValueForAttributeResponse_Success::set_has_updaterate() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void GetUpdateRateValueForAttributeResponse_Success::clear_has_updaterate() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void GetUpdateRateValueForAttributeResponse_Success::clear_updaterate() {
+  updaterate_ = 0;
+  clear_has_updaterate();
+}
+inline double GetUpdateRateValueForAttributeResponse_Success::updaterate() const {
+  return updaterate_;
+}
+inline void GetUpdateRateValueForAttributeResponse_Success::set_updaterate(double value) {
+  set_has_updaterate();
+  updaterate_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// GetUpdateRateValueForAttributeResponse_Failure
+
+// required .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Failure.Cause cause = 2;
+inline bool GetUpdateRateValueForAttributeResponse_Failure::has_cause() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void GetUpdateRateValueForAttributeResponse_Failure::set_has_cause() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void GetUpdateRateValueForAttributeResponse_Failure::clear_has_cause() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void GetUpdateRateValueForAttributeResponse_Failure::clear_cause() {
+  cause_ = 1;
+  clear_has_cause();
+}
+inline ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure_Cause GetUpdateRateValueForAttributeResponse_Failure::cause() const {
+  return static_cast< ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure_Cause >(cause_);
+}
+inline void GetUpdateRateValueForAttributeResponse_Failure::set_cause(::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure_Cause value) {
+  assert(::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure_Cause_IsValid(value));
+  set_has_cause();
+  cause_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// GetUpdateRateValueForAttributeResponse
+
+// required uint64 requestId = 1;
+inline bool GetUpdateRateValueForAttributeResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void GetUpdateRateValueForAttributeResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void GetUpdateRateValueForAttributeResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void GetUpdateRateValueForAttributeResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 GetUpdateRateValueForAttributeResponse::requestid() const {
+  return requestid_;
+}
+inline void GetUpdateRateValueForAttributeResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// optional .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Success success = 2;
+inline bool GetUpdateRateValueForAttributeResponse::has_success() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void GetUpdateRateValueForAttributeResponse::set_has_success() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void GetUpdateRateValueForAttributeResponse::clear_has_success() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void GetUpdateRateValueForAttributeResponse::clear_success() {
+  if (success_ != NULL) success_->::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success::Clear();
+  clear_has_success();
+}
+inline const ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success& GetUpdateRateValueForAttributeResponse::success() const {
+  return success_ != NULL ? *success_ : *default_instance_->success_;
+}
+inline ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success* GetUpdateRateValueForAttributeResponse::mutable_success() {
+  set_has_success();
+  if (success_ == NULL) success_ = new ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success;
+  return success_;
+}
+inline ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success* GetUpdateRateValueForAttributeResponse::release_success() {
+  clear_has_success();
+  ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success* temp = success_;
+  success_ = NULL;
+  return temp;
+}
+inline void GetUpdateRateValueForAttributeResponse::set_allocated_success(::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Success* success) {
+  delete success_;
+  success_ = success;
+  if (success) {
+    set_has_success();
+  } else {
+    clear_has_success();
+  }
+}
+
+// optional .ohla.rti.messages.proto.GetUpdateRateValueForAttributeResponse.Failure failure = 3;
+inline bool GetUpdateRateValueForAttributeResponse::has_failure() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void GetUpdateRateValueForAttributeResponse::set_has_failure() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void GetUpdateRateValueForAttributeResponse::clear_has_failure() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void GetUpdateRateValueForAttributeResponse::clear_failure() {
+  if (failure_ != NULL) failure_->::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure::Clear();
+  clear_has_failure();
+}
+inline const ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure& GetUpdateRateValueForAttributeResponse::failure() const {
+  return failure_ != NULL ? *failure_ : *default_instance_->failure_;
+}
+inline ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure* GetUpdateRateValueForAttributeResponse::mutable_failure() {
+  set_has_failure();
+  if (failure_ == NULL) failure_ = new ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure;
+  return failure_;
+}
+inline ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure* GetUpdateRateValueForAttributeResponse::release_failure() {
+  clear_has_failure();
+  ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure* temp = failure_;
+  failure_ = NULL;
+  return temp;
+}
+inline void GetUpdateRateValueForAttributeResponse::set_allocated_failure(::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure* failure) {
+  delete failure_;
+  failure_ = failure;
+  if (failure) {
+    set_has_failure();
+  } else {
+    clear_has_failure();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// AttributeOwnershipDivestitureIfWantedResponse
+
+// required uint64 requestId = 1;
+inline bool AttributeOwnershipDivestitureIfWantedResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AttributeOwnershipDivestitureIfWantedResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AttributeOwnershipDivestitureIfWantedResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AttributeOwnershipDivestitureIfWantedResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 AttributeOwnershipDivestitureIfWantedResponse::requestid() const {
+  return requestid_;
+}
+inline void AttributeOwnershipDivestitureIfWantedResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int AttributeOwnershipDivestitureIfWantedResponse::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void AttributeOwnershipDivestitureIfWantedResponse::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 AttributeOwnershipDivestitureIfWantedResponse::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void AttributeOwnershipDivestitureIfWantedResponse::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void AttributeOwnershipDivestitureIfWantedResponse::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+AttributeOwnershipDivestitureIfWantedResponse::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+AttributeOwnershipDivestitureIfWantedResponse::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// QueryGALTResponse
+
+// required uint64 requestId = 1;
+inline bool QueryGALTResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void QueryGALTResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void QueryGALTResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void QueryGALTResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 QueryGALTResponse::requestid() const {
+  return requestid_;
+}
+inline void QueryGALTResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// optional bytes galt = 2;
+inline bool QueryGALTResponse::has_galt() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void QueryGALTResponse::set_has_galt() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void QueryGALTResponse::clear_has_galt() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void QueryGALTResponse::clear_galt() {
+  if (galt_ != &::google::protobuf::internal::kEmptyString) {
+    galt_->clear();
+  }
+  clear_has_galt();
+}
+inline const ::std::string& QueryGALTResponse::galt() const {
+  return *galt_;
+}
+inline void QueryGALTResponse::set_galt(const ::std::string& value) {
+  set_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    galt_ = new ::std::string;
+  }
+  galt_->assign(value);
+}
+inline void QueryGALTResponse::set_galt(const char* value) {
+  set_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    galt_ = new ::std::string;
+  }
+  galt_->assign(value);
+}
+inline void QueryGALTResponse::set_galt(const void* value, size_t size) {
+  set_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    galt_ = new ::std::string;
+  }
+  galt_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* QueryGALTResponse::mutable_galt() {
+  set_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    galt_ = new ::std::string;
+  }
+  return galt_;
+}
+inline ::std::string* QueryGALTResponse::release_galt() {
+  clear_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = galt_;
+    galt_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void QueryGALTResponse::set_allocated_galt(::std::string* galt) {
+  if (galt_ != &::google::protobuf::internal::kEmptyString) {
+    delete galt_;
+  }
+  if (galt) {
+    set_has_galt();
+    galt_ = galt;
+  } else {
+    clear_has_galt();
+    galt_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// QueryLITSResponse
+
+// required uint64 requestId = 1;
+inline bool QueryLITSResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void QueryLITSResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void QueryLITSResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void QueryLITSResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 QueryLITSResponse::requestid() const {
+  return requestid_;
+}
+inline void QueryLITSResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// optional bytes lits = 2;
+inline bool QueryLITSResponse::has_lits() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void QueryLITSResponse::set_has_lits() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void QueryLITSResponse::clear_has_lits() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void QueryLITSResponse::clear_lits() {
+  if (lits_ != &::google::protobuf::internal::kEmptyString) {
+    lits_->clear();
+  }
+  clear_has_lits();
+}
+inline const ::std::string& QueryLITSResponse::lits() const {
+  return *lits_;
+}
+inline void QueryLITSResponse::set_lits(const ::std::string& value) {
+  set_has_lits();
+  if (lits_ == &::google::protobuf::internal::kEmptyString) {
+    lits_ = new ::std::string;
+  }
+  lits_->assign(value);
+}
+inline void QueryLITSResponse::set_lits(const char* value) {
+  set_has_lits();
+  if (lits_ == &::google::protobuf::internal::kEmptyString) {
+    lits_ = new ::std::string;
+  }
+  lits_->assign(value);
+}
+inline void QueryLITSResponse::set_lits(const void* value, size_t size) {
+  set_has_lits();
+  if (lits_ == &::google::protobuf::internal::kEmptyString) {
+    lits_ = new ::std::string;
+  }
+  lits_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* QueryLITSResponse::mutable_lits() {
+  set_has_lits();
+  if (lits_ == &::google::protobuf::internal::kEmptyString) {
+    lits_ = new ::std::string;
+  }
+  return lits_;
+}
+inline ::std::string* QueryLITSResponse::release_lits() {
+  clear_has_lits();
+  if (lits_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = lits_;
+    lits_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void QueryLITSResponse::set_allocated_lits(::std::string* lits) {
+  if (lits_ != &::google::protobuf::internal::kEmptyString) {
+    delete lits_;
+  }
+  if (lits) {
+    set_has_lits();
+    lits_ = lits;
+  } else {
+    clear_has_lits();
+    lits_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// RetractResponse_Failure
+
+// required .ohla.rti.messages.proto.RetractResponse.Failure.Cause cause = 1;
+inline bool RetractResponse_Failure::has_cause() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RetractResponse_Failure::set_has_cause() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RetractResponse_Failure::clear_has_cause() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RetractResponse_Failure::clear_cause() {
+  cause_ = 1;
+  clear_has_cause();
+}
+inline ::ohla::rti::messages::proto::RetractResponse_Failure_Cause RetractResponse_Failure::cause() const {
+  return static_cast< ::ohla::rti::messages::proto::RetractResponse_Failure_Cause >(cause_);
+}
+inline void RetractResponse_Failure::set_cause(::ohla::rti::messages::proto::RetractResponse_Failure_Cause value) {
+  assert(::ohla::rti::messages::proto::RetractResponse_Failure_Cause_IsValid(value));
+  set_has_cause();
+  cause_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// RetractResponse
+
+// required uint64 requestId = 1;
+inline bool RetractResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RetractResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RetractResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RetractResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 RetractResponse::requestid() const {
+  return requestid_;
+}
+inline void RetractResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// optional .ohla.rti.messages.proto.RetractResponse.Failure failure = 2;
+inline bool RetractResponse::has_failure() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void RetractResponse::set_has_failure() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void RetractResponse::clear_has_failure() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void RetractResponse::clear_failure() {
+  if (failure_ != NULL) failure_->::ohla::rti::messages::proto::RetractResponse_Failure::Clear();
+  clear_has_failure();
+}
+inline const ::ohla::rti::messages::proto::RetractResponse_Failure& RetractResponse::failure() const {
+  return failure_ != NULL ? *failure_ : *default_instance_->failure_;
+}
+inline ::ohla::rti::messages::proto::RetractResponse_Failure* RetractResponse::mutable_failure() {
+  set_has_failure();
+  if (failure_ == NULL) failure_ = new ::ohla::rti::messages::proto::RetractResponse_Failure;
+  return failure_;
+}
+inline ::ohla::rti::messages::proto::RetractResponse_Failure* RetractResponse::release_failure() {
+  clear_has_failure();
+  ::ohla::rti::messages::proto::RetractResponse_Failure* temp = failure_;
+  failure_ = NULL;
+  return temp;
+}
+inline void RetractResponse::set_allocated_failure(::ohla::rti::messages::proto::RetractResponse_Failure* failure) {
+  delete failure_;
+  failure_ = failure;
+  if (failure) {
+    set_has_failure();
+  } else {
+    clear_has_failure();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// AssociateRegionsForUpdatesResponse_Failure
+
+// required .ohla.rti.messages.proto.AssociateRegionsForUpdatesResponse.Failure.Cause cause = 1;
+inline bool AssociateRegionsForUpdatesResponse_Failure::has_cause() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AssociateRegionsForUpdatesResponse_Failure::set_has_cause() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AssociateRegionsForUpdatesResponse_Failure::clear_has_cause() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AssociateRegionsForUpdatesResponse_Failure::clear_cause() {
+  cause_ = 1;
+  clear_has_cause();
+}
+inline ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure_Cause AssociateRegionsForUpdatesResponse_Failure::cause() const {
+  return static_cast< ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure_Cause >(cause_);
+}
+inline void AssociateRegionsForUpdatesResponse_Failure::set_cause(::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure_Cause value) {
+  assert(::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure_Cause_IsValid(value));
+  set_has_cause();
+  cause_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// AssociateRegionsForUpdatesResponse
+
+// required uint64 requestId = 1;
+inline bool AssociateRegionsForUpdatesResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AssociateRegionsForUpdatesResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AssociateRegionsForUpdatesResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AssociateRegionsForUpdatesResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 AssociateRegionsForUpdatesResponse::requestid() const {
+  return requestid_;
+}
+inline void AssociateRegionsForUpdatesResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// optional .ohla.rti.messages.proto.AssociateRegionsForUpdatesResponse.Failure failure = 2;
+inline bool AssociateRegionsForUpdatesResponse::has_failure() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void AssociateRegionsForUpdatesResponse::set_has_failure() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void AssociateRegionsForUpdatesResponse::clear_has_failure() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void AssociateRegionsForUpdatesResponse::clear_failure() {
+  if (failure_ != NULL) failure_->::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure::Clear();
+  clear_has_failure();
+}
+inline const ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure& AssociateRegionsForUpdatesResponse::failure() const {
+  return failure_ != NULL ? *failure_ : *default_instance_->failure_;
+}
+inline ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure* AssociateRegionsForUpdatesResponse::mutable_failure() {
+  set_has_failure();
+  if (failure_ == NULL) failure_ = new ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure;
+  return failure_;
+}
+inline ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure* AssociateRegionsForUpdatesResponse::release_failure() {
+  clear_has_failure();
+  ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure* temp = failure_;
+  failure_ = NULL;
+  return temp;
+}
+inline void AssociateRegionsForUpdatesResponse::set_allocated_failure(::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure* failure) {
+  delete failure_;
+  failure_ = failure;
+  if (failure) {
+    set_has_failure();
+  } else {
+    clear_has_failure();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// UnassociateRegionsForUpdatesResponse_Failure
+
+// required .ohla.rti.messages.proto.UnassociateRegionsForUpdatesResponse.Failure.Cause cause = 1;
+inline bool UnassociateRegionsForUpdatesResponse_Failure::has_cause() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void UnassociateRegionsForUpdatesResponse_Failure::set_has_cause() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void UnassociateRegionsForUpdatesResponse_Failure::clear_has_cause() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void UnassociateRegionsForUpdatesResponse_Failure::clear_cause() {
+  cause_ = 1;
+  clear_has_cause();
+}
+inline ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure_Cause UnassociateRegionsForUpdatesResponse_Failure::cause() const {
+  return static_cast< ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure_Cause >(cause_);
+}
+inline void UnassociateRegionsForUpdatesResponse_Failure::set_cause(::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure_Cause value) {
+  assert(::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure_Cause_IsValid(value));
+  set_has_cause();
+  cause_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// UnassociateRegionsForUpdatesResponse
+
+// required uint64 requestId = 1;
+inline bool UnassociateRegionsForUpdatesResponse::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void UnassociateRegionsForUpdatesResponse::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void UnassociateRegionsForUpdatesResponse::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void UnassociateRegionsForUpdatesResponse::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 UnassociateRegionsForUpdatesResponse::requestid() const {
+  return requestid_;
+}
+inline void UnassociateRegionsForUpdatesResponse::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// optional .ohla.rti.messages.proto.UnassociateRegionsForUpdatesResponse.Failure failure = 2;
+inline bool UnassociateRegionsForUpdatesResponse::has_failure() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void UnassociateRegionsForUpdatesResponse::set_has_failure() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void UnassociateRegionsForUpdatesResponse::clear_has_failure() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void UnassociateRegionsForUpdatesResponse::clear_failure() {
+  if (failure_ != NULL) failure_->::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure::Clear();
+  clear_has_failure();
+}
+inline const ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure& UnassociateRegionsForUpdatesResponse::failure() const {
+  return failure_ != NULL ? *failure_ : *default_instance_->failure_;
+}
+inline ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure* UnassociateRegionsForUpdatesResponse::mutable_failure() {
+  set_has_failure();
+  if (failure_ == NULL) failure_ = new ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure;
+  return failure_;
+}
+inline ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure* UnassociateRegionsForUpdatesResponse::release_failure() {
+  clear_has_failure();
+  ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure* temp = failure_;
+  failure_ = NULL;
+  return temp;
+}
+inline void UnassociateRegionsForUpdatesResponse::set_allocated_failure(::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure* failure) {
+  delete failure_;
+  failure_ = failure;
+  if (failure) {
+    set_has_failure();
+  } else {
+    clear_has_failure();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// SynchronizationPointRegistrationSucceeded
+
+// required string label = 1;
+inline bool SynchronizationPointRegistrationSucceeded::has_label() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void SynchronizationPointRegistrationSucceeded::set_has_label() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void SynchronizationPointRegistrationSucceeded::clear_has_label() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void SynchronizationPointRegistrationSucceeded::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& SynchronizationPointRegistrationSucceeded::label() const {
+  return *label_;
+}
+inline void SynchronizationPointRegistrationSucceeded::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void SynchronizationPointRegistrationSucceeded::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void SynchronizationPointRegistrationSucceeded::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* SynchronizationPointRegistrationSucceeded::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* SynchronizationPointRegistrationSucceeded::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void SynchronizationPointRegistrationSucceeded::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// SynchronizationPointRegistrationFailed
+
+// required string label = 1;
+inline bool SynchronizationPointRegistrationFailed::has_label() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void SynchronizationPointRegistrationFailed::set_has_label() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void SynchronizationPointRegistrationFailed::clear_has_label() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void SynchronizationPointRegistrationFailed::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& SynchronizationPointRegistrationFailed::label() const {
+  return *label_;
+}
+inline void SynchronizationPointRegistrationFailed::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void SynchronizationPointRegistrationFailed::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void SynchronizationPointRegistrationFailed::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* SynchronizationPointRegistrationFailed::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* SynchronizationPointRegistrationFailed::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void SynchronizationPointRegistrationFailed::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required .ohla.rti.messages.proto.SynchronizationPointFailureReason synchronizationPointFailureReason = 2;
+inline bool SynchronizationPointRegistrationFailed::has_synchronizationpointfailurereason() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void SynchronizationPointRegistrationFailed::set_has_synchronizationpointfailurereason() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void SynchronizationPointRegistrationFailed::clear_has_synchronizationpointfailurereason() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void SynchronizationPointRegistrationFailed::clear_synchronizationpointfailurereason() {
+  synchronizationpointfailurereason_ = 1;
+  clear_has_synchronizationpointfailurereason();
+}
+inline ::ohla::rti::messages::proto::SynchronizationPointFailureReason SynchronizationPointRegistrationFailed::synchronizationpointfailurereason() const {
+  return static_cast< ::ohla::rti::messages::proto::SynchronizationPointFailureReason >(synchronizationpointfailurereason_);
+}
+inline void SynchronizationPointRegistrationFailed::set_synchronizationpointfailurereason(::ohla::rti::messages::proto::SynchronizationPointFailureReason value) {
+  assert(::ohla::rti::messages::proto::SynchronizationPointFailureReason_IsValid(value));
+  set_has_synchronizationpointfailurereason();
+  synchronizationpointfailurereason_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// AnnounceSynchronizationPoint
+
+// required string label = 1;
+inline bool AnnounceSynchronizationPoint::has_label() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AnnounceSynchronizationPoint::set_has_label() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AnnounceSynchronizationPoint::clear_has_label() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AnnounceSynchronizationPoint::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& AnnounceSynchronizationPoint::label() const {
+  return *label_;
+}
+inline void AnnounceSynchronizationPoint::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void AnnounceSynchronizationPoint::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void AnnounceSynchronizationPoint::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* AnnounceSynchronizationPoint::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* AnnounceSynchronizationPoint::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void AnnounceSynchronizationPoint::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional bytes tag = 2;
+inline bool AnnounceSynchronizationPoint::has_tag() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void AnnounceSynchronizationPoint::set_has_tag() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void AnnounceSynchronizationPoint::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void AnnounceSynchronizationPoint::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& AnnounceSynchronizationPoint::tag() const {
+  return *tag_;
+}
+inline void AnnounceSynchronizationPoint::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void AnnounceSynchronizationPoint::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void AnnounceSynchronizationPoint::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* AnnounceSynchronizationPoint::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* AnnounceSynchronizationPoint::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void AnnounceSynchronizationPoint::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// FederationSynchronized
+
+// required string label = 1;
+inline bool FederationSynchronized::has_label() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederationSynchronized::set_has_label() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederationSynchronized::clear_has_label() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederationSynchronized::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& FederationSynchronized::label() const {
+  return *label_;
+}
+inline void FederationSynchronized::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void FederationSynchronized::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void FederationSynchronized::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederationSynchronized::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* FederationSynchronized::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederationSynchronized::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// repeated uint32 federateHandlesThatFailedToSynchronize = 2;
+inline int FederationSynchronized::federatehandlesthatfailedtosynchronize_size() const {
+  return federatehandlesthatfailedtosynchronize_.size();
+}
+inline void FederationSynchronized::clear_federatehandlesthatfailedtosynchronize() {
+  federatehandlesthatfailedtosynchronize_.Clear();
+}
+inline ::google::protobuf::uint32 FederationSynchronized::federatehandlesthatfailedtosynchronize(int index) const {
+  return federatehandlesthatfailedtosynchronize_.Get(index);
+}
+inline void FederationSynchronized::set_federatehandlesthatfailedtosynchronize(int index, ::google::protobuf::uint32 value) {
+  federatehandlesthatfailedtosynchronize_.Set(index, value);
+}
+inline void FederationSynchronized::add_federatehandlesthatfailedtosynchronize(::google::protobuf::uint32 value) {
+  federatehandlesthatfailedtosynchronize_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FederationSynchronized::federatehandlesthatfailedtosynchronize() const {
+  return federatehandlesthatfailedtosynchronize_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FederationSynchronized::mutable_federatehandlesthatfailedtosynchronize() {
+  return &federatehandlesthatfailedtosynchronize_;
+}
+
+// -------------------------------------------------------------------
+
+// InitiateFederateSave
+
+// required string label = 1;
+inline bool InitiateFederateSave::has_label() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void InitiateFederateSave::set_has_label() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void InitiateFederateSave::clear_has_label() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void InitiateFederateSave::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& InitiateFederateSave::label() const {
+  return *label_;
+}
+inline void InitiateFederateSave::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void InitiateFederateSave::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void InitiateFederateSave::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* InitiateFederateSave::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* InitiateFederateSave::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void InitiateFederateSave::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional bytes time = 2;
+inline bool InitiateFederateSave::has_time() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void InitiateFederateSave::set_has_time() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void InitiateFederateSave::clear_has_time() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void InitiateFederateSave::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& InitiateFederateSave::time() const {
+  return *time_;
+}
+inline void InitiateFederateSave::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void InitiateFederateSave::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void InitiateFederateSave::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* InitiateFederateSave::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* InitiateFederateSave::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void InitiateFederateSave::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// FederationSaved
+
+// -------------------------------------------------------------------
+
+// FederationNotSaved
+
+// required .ohla.rti.messages.proto.SaveFailureReason saveFailureReason = 1;
+inline bool FederationNotSaved::has_savefailurereason() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederationNotSaved::set_has_savefailurereason() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederationNotSaved::clear_has_savefailurereason() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederationNotSaved::clear_savefailurereason() {
+  savefailurereason_ = 1;
+  clear_has_savefailurereason();
+}
+inline ::ohla::rti::messages::proto::SaveFailureReason FederationNotSaved::savefailurereason() const {
+  return static_cast< ::ohla::rti::messages::proto::SaveFailureReason >(savefailurereason_);
+}
+inline void FederationNotSaved::set_savefailurereason(::ohla::rti::messages::proto::SaveFailureReason value) {
+  assert(::ohla::rti::messages::proto::SaveFailureReason_IsValid(value));
+  set_has_savefailurereason();
+  savefailurereason_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederateSaveStatus
+
+// required uint32 federateHandle = 1;
+inline bool FederateSaveStatus::has_federatehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateSaveStatus::set_has_federatehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateSaveStatus::clear_has_federatehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateSaveStatus::clear_federatehandle() {
+  federatehandle_ = 0u;
+  clear_has_federatehandle();
+}
+inline ::google::protobuf::uint32 FederateSaveStatus::federatehandle() const {
+  return federatehandle_;
+}
+inline void FederateSaveStatus::set_federatehandle(::google::protobuf::uint32 value) {
+  set_has_federatehandle();
+  federatehandle_ = value;
+}
+
+// required .ohla.rti.messages.proto.SaveStatus saveStatus = 2;
+inline bool FederateSaveStatus::has_savestatus() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederateSaveStatus::set_has_savestatus() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederateSaveStatus::clear_has_savestatus() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederateSaveStatus::clear_savestatus() {
+  savestatus_ = 1;
+  clear_has_savestatus();
+}
+inline ::ohla::rti::messages::proto::SaveStatus FederateSaveStatus::savestatus() const {
+  return static_cast< ::ohla::rti::messages::proto::SaveStatus >(savestatus_);
+}
+inline void FederateSaveStatus::set_savestatus(::ohla::rti::messages::proto::SaveStatus value) {
+  assert(::ohla::rti::messages::proto::SaveStatus_IsValid(value));
+  set_has_savestatus();
+  savestatus_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederationSaveStatusResponse
+
+// repeated .ohla.rti.messages.proto.FederateSaveStatus federationSaveStatus = 1;
+inline int FederationSaveStatusResponse::federationsavestatus_size() const {
+  return federationsavestatus_.size();
+}
+inline void FederationSaveStatusResponse::clear_federationsavestatus() {
+  federationsavestatus_.Clear();
+}
+inline const ::ohla::rti::messages::proto::FederateSaveStatus& FederationSaveStatusResponse::federationsavestatus(int index) const {
+  return federationsavestatus_.Get(index);
+}
+inline ::ohla::rti::messages::proto::FederateSaveStatus* FederationSaveStatusResponse::mutable_federationsavestatus(int index) {
+  return federationsavestatus_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::FederateSaveStatus* FederationSaveStatusResponse::add_federationsavestatus() {
+  return federationsavestatus_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::FederateSaveStatus >&
+FederationSaveStatusResponse::federationsavestatus() const {
+  return federationsavestatus_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::FederateSaveStatus >*
+FederationSaveStatusResponse::mutable_federationsavestatus() {
+  return &federationsavestatus_;
+}
+
+// -------------------------------------------------------------------
+
+// RequestFederationRestoreSucceeded
+
+// required string label = 1;
+inline bool RequestFederationRestoreSucceeded::has_label() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestFederationRestoreSucceeded::set_has_label() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestFederationRestoreSucceeded::clear_has_label() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestFederationRestoreSucceeded::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& RequestFederationRestoreSucceeded::label() const {
+  return *label_;
+}
+inline void RequestFederationRestoreSucceeded::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void RequestFederationRestoreSucceeded::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void RequestFederationRestoreSucceeded::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RequestFederationRestoreSucceeded::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* RequestFederationRestoreSucceeded::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RequestFederationRestoreSucceeded::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// RequestFederationRestoreFailed
+
+// required string label = 1;
+inline bool RequestFederationRestoreFailed::has_label() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestFederationRestoreFailed::set_has_label() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestFederationRestoreFailed::clear_has_label() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestFederationRestoreFailed::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& RequestFederationRestoreFailed::label() const {
+  return *label_;
+}
+inline void RequestFederationRestoreFailed::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void RequestFederationRestoreFailed::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void RequestFederationRestoreFailed::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RequestFederationRestoreFailed::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* RequestFederationRestoreFailed::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RequestFederationRestoreFailed::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// FederationRestoreBegun
+
+// required string label = 1;
+inline bool FederationRestoreBegun::has_label() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederationRestoreBegun::set_has_label() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederationRestoreBegun::clear_has_label() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederationRestoreBegun::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& FederationRestoreBegun::label() const {
+  return *label_;
+}
+inline void FederationRestoreBegun::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void FederationRestoreBegun::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void FederationRestoreBegun::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederationRestoreBegun::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* FederationRestoreBegun::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederationRestoreBegun::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required string federateName = 2;
+inline bool FederationRestoreBegun::has_federatename() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederationRestoreBegun::set_has_federatename() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederationRestoreBegun::clear_has_federatename() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederationRestoreBegun::clear_federatename() {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    federatename_->clear();
+  }
+  clear_has_federatename();
+}
+inline const ::std::string& FederationRestoreBegun::federatename() const {
+  return *federatename_;
+}
+inline void FederationRestoreBegun::set_federatename(const ::std::string& value) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(value);
+}
+inline void FederationRestoreBegun::set_federatename(const char* value) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(value);
+}
+inline void FederationRestoreBegun::set_federatename(const char* value, size_t size) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederationRestoreBegun::mutable_federatename() {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  return federatename_;
+}
+inline ::std::string* FederationRestoreBegun::release_federatename() {
+  clear_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federatename_;
+    federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederationRestoreBegun::set_allocated_federatename(::std::string* federatename) {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatename_;
+  }
+  if (federatename) {
+    set_has_federatename();
+    federatename_ = federatename;
+  } else {
+    clear_has_federatename();
+    federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required uint32 federateHandle = 3;
+inline bool FederationRestoreBegun::has_federatehandle() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FederationRestoreBegun::set_has_federatehandle() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FederationRestoreBegun::clear_has_federatehandle() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FederationRestoreBegun::clear_federatehandle() {
+  federatehandle_ = 0u;
+  clear_has_federatehandle();
+}
+inline ::google::protobuf::uint32 FederationRestoreBegun::federatehandle() const {
+  return federatehandle_;
+}
+inline void FederationRestoreBegun::set_federatehandle(::google::protobuf::uint32 value) {
+  set_has_federatehandle();
+  federatehandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// InitiateFederateRestore
+
+// -------------------------------------------------------------------
+
+// FederationRestored
+
+// -------------------------------------------------------------------
+
+// FederationNotRestored
+
+// required .ohla.rti.messages.proto.RestoreFailureReason restoreFailureReason = 1;
+inline bool FederationNotRestored::has_restorefailurereason() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederationNotRestored::set_has_restorefailurereason() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederationNotRestored::clear_has_restorefailurereason() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederationNotRestored::clear_restorefailurereason() {
+  restorefailurereason_ = 1;
+  clear_has_restorefailurereason();
+}
+inline ::ohla::rti::messages::proto::RestoreFailureReason FederationNotRestored::restorefailurereason() const {
+  return static_cast< ::ohla::rti::messages::proto::RestoreFailureReason >(restorefailurereason_);
+}
+inline void FederationNotRestored::set_restorefailurereason(::ohla::rti::messages::proto::RestoreFailureReason value) {
+  assert(::ohla::rti::messages::proto::RestoreFailureReason_IsValid(value));
+  set_has_restorefailurereason();
+  restorefailurereason_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederateRestoreStatus
+
+// required uint32 preRestoreFederateHandle = 1;
+inline bool FederateRestoreStatus::has_prerestorefederatehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateRestoreStatus::set_has_prerestorefederatehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateRestoreStatus::clear_has_prerestorefederatehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateRestoreStatus::clear_prerestorefederatehandle() {
+  prerestorefederatehandle_ = 0u;
+  clear_has_prerestorefederatehandle();
+}
+inline ::google::protobuf::uint32 FederateRestoreStatus::prerestorefederatehandle() const {
+  return prerestorefederatehandle_;
+}
+inline void FederateRestoreStatus::set_prerestorefederatehandle(::google::protobuf::uint32 value) {
+  set_has_prerestorefederatehandle();
+  prerestorefederatehandle_ = value;
+}
+
+// optional uint32 postRestoreFederateHandle = 2;
+inline bool FederateRestoreStatus::has_postrestorefederatehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederateRestoreStatus::set_has_postrestorefederatehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederateRestoreStatus::clear_has_postrestorefederatehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederateRestoreStatus::clear_postrestorefederatehandle() {
+  postrestorefederatehandle_ = 0u;
+  clear_has_postrestorefederatehandle();
+}
+inline ::google::protobuf::uint32 FederateRestoreStatus::postrestorefederatehandle() const {
+  return postrestorefederatehandle_;
+}
+inline void FederateRestoreStatus::set_postrestorefederatehandle(::google::protobuf::uint32 value) {
+  set_has_postrestorefederatehandle();
+  postrestorefederatehandle_ = value;
+}
+
+// required .ohla.rti.messages.proto.RestoreStatus restoreStatus = 3;
+inline bool FederateRestoreStatus::has_restorestatus() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FederateRestoreStatus::set_has_restorestatus() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FederateRestoreStatus::clear_has_restorestatus() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FederateRestoreStatus::clear_restorestatus() {
+  restorestatus_ = 1;
+  clear_has_restorestatus();
+}
+inline ::ohla::rti::messages::proto::RestoreStatus FederateRestoreStatus::restorestatus() const {
+  return static_cast< ::ohla::rti::messages::proto::RestoreStatus >(restorestatus_);
+}
+inline void FederateRestoreStatus::set_restorestatus(::ohla::rti::messages::proto::RestoreStatus value) {
+  assert(::ohla::rti::messages::proto::RestoreStatus_IsValid(value));
+  set_has_restorestatus();
+  restorestatus_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederationRestoreStatusResponse
+
+// repeated .ohla.rti.messages.proto.FederateRestoreStatus federationRestoreStatus = 1;
+inline int FederationRestoreStatusResponse::federationrestorestatus_size() const {
+  return federationrestorestatus_.size();
+}
+inline void FederationRestoreStatusResponse::clear_federationrestorestatus() {
+  federationrestorestatus_.Clear();
+}
+inline const ::ohla::rti::messages::proto::FederateRestoreStatus& FederationRestoreStatusResponse::federationrestorestatus(int index) const {
+  return federationrestorestatus_.Get(index);
+}
+inline ::ohla::rti::messages::proto::FederateRestoreStatus* FederationRestoreStatusResponse::mutable_federationrestorestatus(int index) {
+  return federationrestorestatus_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::FederateRestoreStatus* FederationRestoreStatusResponse::add_federationrestorestatus() {
+  return federationrestorestatus_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::FederateRestoreStatus >&
+FederationRestoreStatusResponse::federationrestorestatus() const {
+  return federationrestorestatus_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::FederateRestoreStatus >*
+FederationRestoreStatusResponse::mutable_federationrestorestatus() {
+  return &federationrestorestatus_;
+}
+
+// -------------------------------------------------------------------
+
+// StartRegistrationForObjectClass
+
+// required uint32 objectClassHandle = 1;
+inline bool StartRegistrationForObjectClass::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void StartRegistrationForObjectClass::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void StartRegistrationForObjectClass::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void StartRegistrationForObjectClass::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 StartRegistrationForObjectClass::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void StartRegistrationForObjectClass::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// StopRegistrationForObjectClass
+
+// required uint32 objectClassHandle = 1;
+inline bool StopRegistrationForObjectClass::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void StopRegistrationForObjectClass::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void StopRegistrationForObjectClass::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void StopRegistrationForObjectClass::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 StopRegistrationForObjectClass::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void StopRegistrationForObjectClass::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// TurnInteractionsOn
+
+// required uint32 interactionClassHandle = 1;
+inline bool TurnInteractionsOn::has_interactionclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void TurnInteractionsOn::set_has_interactionclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void TurnInteractionsOn::clear_has_interactionclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void TurnInteractionsOn::clear_interactionclasshandle() {
+  interactionclasshandle_ = 0u;
+  clear_has_interactionclasshandle();
+}
+inline ::google::protobuf::uint32 TurnInteractionsOn::interactionclasshandle() const {
+  return interactionclasshandle_;
+}
+inline void TurnInteractionsOn::set_interactionclasshandle(::google::protobuf::uint32 value) {
+  set_has_interactionclasshandle();
+  interactionclasshandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// TurnInteractionsOff
+
+// required uint32 interactionClassHandle = 1;
+inline bool TurnInteractionsOff::has_interactionclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void TurnInteractionsOff::set_has_interactionclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void TurnInteractionsOff::clear_has_interactionclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void TurnInteractionsOff::clear_interactionclasshandle() {
+  interactionclasshandle_ = 0u;
+  clear_has_interactionclasshandle();
+}
+inline ::google::protobuf::uint32 TurnInteractionsOff::interactionclasshandle() const {
+  return interactionclasshandle_;
+}
+inline void TurnInteractionsOff::set_interactionclasshandle(::google::protobuf::uint32 value) {
+  set_has_interactionclasshandle();
+  interactionclasshandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// DiscoverObjectInstance
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool DiscoverObjectInstance::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void DiscoverObjectInstance::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void DiscoverObjectInstance::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void DiscoverObjectInstance::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& DiscoverObjectInstance::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* DiscoverObjectInstance::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* DiscoverObjectInstance::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void DiscoverObjectInstance::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// required uint32 objectClassHandle = 2;
+inline bool DiscoverObjectInstance::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void DiscoverObjectInstance::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void DiscoverObjectInstance::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void DiscoverObjectInstance::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 DiscoverObjectInstance::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void DiscoverObjectInstance::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// required string objectInstanceName = 3;
+inline bool DiscoverObjectInstance::has_objectinstancename() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void DiscoverObjectInstance::set_has_objectinstancename() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void DiscoverObjectInstance::clear_has_objectinstancename() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void DiscoverObjectInstance::clear_objectinstancename() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_->clear();
+  }
+  clear_has_objectinstancename();
+}
+inline const ::std::string& DiscoverObjectInstance::objectinstancename() const {
+  return *objectinstancename_;
+}
+inline void DiscoverObjectInstance::set_objectinstancename(const ::std::string& value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void DiscoverObjectInstance::set_objectinstancename(const char* value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void DiscoverObjectInstance::set_objectinstancename(const char* value, size_t size) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* DiscoverObjectInstance::mutable_objectinstancename() {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  return objectinstancename_;
+}
+inline ::std::string* DiscoverObjectInstance::release_objectinstancename() {
+  clear_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = objectinstancename_;
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void DiscoverObjectInstance::set_allocated_objectinstancename(::std::string* objectinstancename) {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (objectinstancename) {
+    set_has_objectinstancename();
+    objectinstancename_ = objectinstancename;
+  } else {
+    clear_has_objectinstancename();
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required uint32 producingFederateHandle = 4;
+inline bool DiscoverObjectInstance::has_producingfederatehandle() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void DiscoverObjectInstance::set_has_producingfederatehandle() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void DiscoverObjectInstance::clear_has_producingfederatehandle() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void DiscoverObjectInstance::clear_producingfederatehandle() {
+  producingfederatehandle_ = 0u;
+  clear_has_producingfederatehandle();
+}
+inline ::google::protobuf::uint32 DiscoverObjectInstance::producingfederatehandle() const {
+  return producingfederatehandle_;
+}
+inline void DiscoverObjectInstance::set_producingfederatehandle(::google::protobuf::uint32 value) {
+  set_has_producingfederatehandle();
+  producingfederatehandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// Region
+
+// repeated .ohla.rti.proto.DimensionRangeBound dimensionRangeBounds = 1;
+inline int Region::dimensionrangebounds_size() const {
+  return dimensionrangebounds_.size();
+}
+inline void Region::clear_dimensionrangebounds() {
+  dimensionrangebounds_.Clear();
+}
+inline const ::ohla::rti::proto::DimensionRangeBound& Region::dimensionrangebounds(int index) const {
+  return dimensionrangebounds_.Get(index);
+}
+inline ::ohla::rti::proto::DimensionRangeBound* Region::mutable_dimensionrangebounds(int index) {
+  return dimensionrangebounds_.Mutable(index);
+}
+inline ::ohla::rti::proto::DimensionRangeBound* Region::add_dimensionrangebounds() {
+  return dimensionrangebounds_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >&
+Region::dimensionrangebounds() const {
+  return dimensionrangebounds_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >*
+Region::mutable_dimensionrangebounds() {
+  return &dimensionrangebounds_;
+}
+
+// -------------------------------------------------------------------
+
+// ReflectAttributeValues
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool ReflectAttributeValues::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ReflectAttributeValues::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ReflectAttributeValues::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ReflectAttributeValues::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& ReflectAttributeValues::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* ReflectAttributeValues::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* ReflectAttributeValues::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void ReflectAttributeValues::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated .ohla.rti.messages.proto.AttributeValue attributeValues = 2;
+inline int ReflectAttributeValues::attributevalues_size() const {
+  return attributevalues_.size();
+}
+inline void ReflectAttributeValues::clear_attributevalues() {
+  attributevalues_.Clear();
+}
+inline const ::ohla::rti::messages::proto::AttributeValue& ReflectAttributeValues::attributevalues(int index) const {
+  return attributevalues_.Get(index);
+}
+inline ::ohla::rti::messages::proto::AttributeValue* ReflectAttributeValues::mutable_attributevalues(int index) {
+  return attributevalues_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::AttributeValue* ReflectAttributeValues::add_attributevalues() {
+  return attributevalues_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeValue >&
+ReflectAttributeValues::attributevalues() const {
+  return attributevalues_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeValue >*
+ReflectAttributeValues::mutable_attributevalues() {
+  return &attributevalues_;
+}
+
+// optional bytes tag = 3;
+inline bool ReflectAttributeValues::has_tag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void ReflectAttributeValues::set_has_tag() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void ReflectAttributeValues::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void ReflectAttributeValues::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& ReflectAttributeValues::tag() const {
+  return *tag_;
+}
+inline void ReflectAttributeValues::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void ReflectAttributeValues::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void ReflectAttributeValues::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ReflectAttributeValues::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* ReflectAttributeValues::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void ReflectAttributeValues::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required .ohla.rti.proto.OrderType sentOrderType = 4;
+inline bool ReflectAttributeValues::has_sentordertype() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void ReflectAttributeValues::set_has_sentordertype() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void ReflectAttributeValues::clear_has_sentordertype() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void ReflectAttributeValues::clear_sentordertype() {
+  sentordertype_ = 1;
+  clear_has_sentordertype();
+}
+inline ::ohla::rti::proto::OrderType ReflectAttributeValues::sentordertype() const {
+  return static_cast< ::ohla::rti::proto::OrderType >(sentordertype_);
+}
+inline void ReflectAttributeValues::set_sentordertype(::ohla::rti::proto::OrderType value) {
+  assert(::ohla::rti::proto::OrderType_IsValid(value));
+  set_has_sentordertype();
+  sentordertype_ = value;
+}
+
+// required .ohla.rti.proto.OrderType receivedOrderType = 5;
+inline bool ReflectAttributeValues::has_receivedordertype() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void ReflectAttributeValues::set_has_receivedordertype() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void ReflectAttributeValues::clear_has_receivedordertype() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void ReflectAttributeValues::clear_receivedordertype() {
+  receivedordertype_ = 1;
+  clear_has_receivedordertype();
+}
+inline ::ohla::rti::proto::OrderType ReflectAttributeValues::receivedordertype() const {
+  return static_cast< ::ohla::rti::proto::OrderType >(receivedordertype_);
+}
+inline void ReflectAttributeValues::set_receivedordertype(::ohla::rti::proto::OrderType value) {
+  assert(::ohla::rti::proto::OrderType_IsValid(value));
+  set_has_receivedordertype();
+  receivedordertype_ = value;
+}
+
+// required uint32 transportationTypeHandle = 6;
+inline bool ReflectAttributeValues::has_transportationtypehandle() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void ReflectAttributeValues::set_has_transportationtypehandle() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void ReflectAttributeValues::clear_has_transportationtypehandle() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void ReflectAttributeValues::clear_transportationtypehandle() {
+  transportationtypehandle_ = 0u;
+  clear_has_transportationtypehandle();
+}
+inline ::google::protobuf::uint32 ReflectAttributeValues::transportationtypehandle() const {
+  return transportationtypehandle_;
+}
+inline void ReflectAttributeValues::set_transportationtypehandle(::google::protobuf::uint32 value) {
+  set_has_transportationtypehandle();
+  transportationtypehandle_ = value;
+}
+
+// optional bytes time = 7;
+inline bool ReflectAttributeValues::has_time() const {
+  return (_has_bits_[0] & 0x00000040u) != 0;
+}
+inline void ReflectAttributeValues::set_has_time() {
+  _has_bits_[0] |= 0x00000040u;
+}
+inline void ReflectAttributeValues::clear_has_time() {
+  _has_bits_[0] &= ~0x00000040u;
+}
+inline void ReflectAttributeValues::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& ReflectAttributeValues::time() const {
+  return *time_;
+}
+inline void ReflectAttributeValues::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void ReflectAttributeValues::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void ReflectAttributeValues::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ReflectAttributeValues::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* ReflectAttributeValues::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void ReflectAttributeValues::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 8;
+inline bool ReflectAttributeValues::has_messageretractionhandle() const {
+  return (_has_bits_[0] & 0x00000080u) != 0;
+}
+inline void ReflectAttributeValues::set_has_messageretractionhandle() {
+  _has_bits_[0] |= 0x00000080u;
+}
+inline void ReflectAttributeValues::clear_has_messageretractionhandle() {
+  _has_bits_[0] &= ~0x00000080u;
+}
+inline void ReflectAttributeValues::clear_messageretractionhandle() {
+  if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+  clear_has_messageretractionhandle();
+}
+inline const ::ohla::rti::proto::MessageRetractionHandle& ReflectAttributeValues::messageretractionhandle() const {
+  return messageretractionhandle_ != NULL ? *messageretractionhandle_ : *default_instance_->messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* ReflectAttributeValues::mutable_messageretractionhandle() {
+  set_has_messageretractionhandle();
+  if (messageretractionhandle_ == NULL) messageretractionhandle_ = new ::ohla::rti::proto::MessageRetractionHandle;
+  return messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* ReflectAttributeValues::release_messageretractionhandle() {
+  clear_has_messageretractionhandle();
+  ::ohla::rti::proto::MessageRetractionHandle* temp = messageretractionhandle_;
+  messageretractionhandle_ = NULL;
+  return temp;
+}
+inline void ReflectAttributeValues::set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle) {
+  delete messageretractionhandle_;
+  messageretractionhandle_ = messageretractionhandle;
+  if (messageretractionhandle) {
+    set_has_messageretractionhandle();
+  } else {
+    clear_has_messageretractionhandle();
+  }
+}
+
+// required uint32 producingFederateHandle = 9;
+inline bool ReflectAttributeValues::has_producingfederatehandle() const {
+  return (_has_bits_[0] & 0x00000100u) != 0;
+}
+inline void ReflectAttributeValues::set_has_producingfederatehandle() {
+  _has_bits_[0] |= 0x00000100u;
+}
+inline void ReflectAttributeValues::clear_has_producingfederatehandle() {
+  _has_bits_[0] &= ~0x00000100u;
+}
+inline void ReflectAttributeValues::clear_producingfederatehandle() {
+  producingfederatehandle_ = 0u;
+  clear_has_producingfederatehandle();
+}
+inline ::google::protobuf::uint32 ReflectAttributeValues::producingfederatehandle() const {
+  return producingfederatehandle_;
+}
+inline void ReflectAttributeValues::set_producingfederatehandle(::google::protobuf::uint32 value) {
+  set_has_producingfederatehandle();
+  producingfederatehandle_ = value;
+}
+
+// repeated .ohla.rti.messages.proto.Region regions = 10;
+inline int ReflectAttributeValues::regions_size() const {
+  return regions_.size();
+}
+inline void ReflectAttributeValues::clear_regions() {
+  regions_.Clear();
+}
+inline const ::ohla::rti::messages::proto::Region& ReflectAttributeValues::regions(int index) const {
+  return regions_.Get(index);
+}
+inline ::ohla::rti::messages::proto::Region* ReflectAttributeValues::mutable_regions(int index) {
+  return regions_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::Region* ReflectAttributeValues::add_regions() {
+  return regions_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::Region >&
+ReflectAttributeValues::regions() const {
+  return regions_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::Region >*
+ReflectAttributeValues::mutable_regions() {
+  return &regions_;
+}
+
+// -------------------------------------------------------------------
+
+// RemoveObjectInstance
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool RemoveObjectInstance::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RemoveObjectInstance::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RemoveObjectInstance::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RemoveObjectInstance::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& RemoveObjectInstance::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* RemoveObjectInstance::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* RemoveObjectInstance::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void RemoveObjectInstance::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// optional bytes tag = 2;
+inline bool RemoveObjectInstance::has_tag() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void RemoveObjectInstance::set_has_tag() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void RemoveObjectInstance::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void RemoveObjectInstance::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& RemoveObjectInstance::tag() const {
+  return *tag_;
+}
+inline void RemoveObjectInstance::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void RemoveObjectInstance::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void RemoveObjectInstance::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RemoveObjectInstance::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* RemoveObjectInstance::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RemoveObjectInstance::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required .ohla.rti.proto.OrderType sentOrderType = 3;
+inline bool RemoveObjectInstance::has_sentordertype() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void RemoveObjectInstance::set_has_sentordertype() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void RemoveObjectInstance::clear_has_sentordertype() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void RemoveObjectInstance::clear_sentordertype() {
+  sentordertype_ = 1;
+  clear_has_sentordertype();
+}
+inline ::ohla::rti::proto::OrderType RemoveObjectInstance::sentordertype() const {
+  return static_cast< ::ohla::rti::proto::OrderType >(sentordertype_);
+}
+inline void RemoveObjectInstance::set_sentordertype(::ohla::rti::proto::OrderType value) {
+  assert(::ohla::rti::proto::OrderType_IsValid(value));
+  set_has_sentordertype();
+  sentordertype_ = value;
+}
+
+// required .ohla.rti.proto.OrderType receivedOrderType = 4;
+inline bool RemoveObjectInstance::has_receivedordertype() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void RemoveObjectInstance::set_has_receivedordertype() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void RemoveObjectInstance::clear_has_receivedordertype() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void RemoveObjectInstance::clear_receivedordertype() {
+  receivedordertype_ = 1;
+  clear_has_receivedordertype();
+}
+inline ::ohla::rti::proto::OrderType RemoveObjectInstance::receivedordertype() const {
+  return static_cast< ::ohla::rti::proto::OrderType >(receivedordertype_);
+}
+inline void RemoveObjectInstance::set_receivedordertype(::ohla::rti::proto::OrderType value) {
+  assert(::ohla::rti::proto::OrderType_IsValid(value));
+  set_has_receivedordertype();
+  receivedordertype_ = value;
+}
+
+// optional bytes time = 5;
+inline bool RemoveObjectInstance::has_time() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void RemoveObjectInstance::set_has_time() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void RemoveObjectInstance::clear_has_time() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void RemoveObjectInstance::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& RemoveObjectInstance::time() const {
+  return *time_;
+}
+inline void RemoveObjectInstance::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void RemoveObjectInstance::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void RemoveObjectInstance::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RemoveObjectInstance::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* RemoveObjectInstance::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RemoveObjectInstance::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 6;
+inline bool RemoveObjectInstance::has_messageretractionhandle() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void RemoveObjectInstance::set_has_messageretractionhandle() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void RemoveObjectInstance::clear_has_messageretractionhandle() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void RemoveObjectInstance::clear_messageretractionhandle() {
+  if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+  clear_has_messageretractionhandle();
+}
+inline const ::ohla::rti::proto::MessageRetractionHandle& RemoveObjectInstance::messageretractionhandle() const {
+  return messageretractionhandle_ != NULL ? *messageretractionhandle_ : *default_instance_->messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* RemoveObjectInstance::mutable_messageretractionhandle() {
+  set_has_messageretractionhandle();
+  if (messageretractionhandle_ == NULL) messageretractionhandle_ = new ::ohla::rti::proto::MessageRetractionHandle;
+  return messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* RemoveObjectInstance::release_messageretractionhandle() {
+  clear_has_messageretractionhandle();
+  ::ohla::rti::proto::MessageRetractionHandle* temp = messageretractionhandle_;
+  messageretractionhandle_ = NULL;
+  return temp;
+}
+inline void RemoveObjectInstance::set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle) {
+  delete messageretractionhandle_;
+  messageretractionhandle_ = messageretractionhandle;
+  if (messageretractionhandle) {
+    set_has_messageretractionhandle();
+  } else {
+    clear_has_messageretractionhandle();
+  }
+}
+
+// required uint32 producingFederateHandle = 7;
+inline bool RemoveObjectInstance::has_producingfederatehandle() const {
+  return (_has_bits_[0] & 0x00000040u) != 0;
+}
+inline void RemoveObjectInstance::set_has_producingfederatehandle() {
+  _has_bits_[0] |= 0x00000040u;
+}
+inline void RemoveObjectInstance::clear_has_producingfederatehandle() {
+  _has_bits_[0] &= ~0x00000040u;
+}
+inline void RemoveObjectInstance::clear_producingfederatehandle() {
+  producingfederatehandle_ = 0u;
+  clear_has_producingfederatehandle();
+}
+inline ::google::protobuf::uint32 RemoveObjectInstance::producingfederatehandle() const {
+  return producingfederatehandle_;
+}
+inline void RemoveObjectInstance::set_producingfederatehandle(::google::protobuf::uint32 value) {
+  set_has_producingfederatehandle();
+  producingfederatehandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// AttributesInScope
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool AttributesInScope::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AttributesInScope::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AttributesInScope::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AttributesInScope::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& AttributesInScope::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributesInScope::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributesInScope::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void AttributesInScope::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int AttributesInScope::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void AttributesInScope::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 AttributesInScope::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void AttributesInScope::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void AttributesInScope::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+AttributesInScope::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+AttributesInScope::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// AttributesOutOfScope
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool AttributesOutOfScope::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AttributesOutOfScope::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AttributesOutOfScope::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AttributesOutOfScope::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& AttributesOutOfScope::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributesOutOfScope::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributesOutOfScope::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void AttributesOutOfScope::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int AttributesOutOfScope::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void AttributesOutOfScope::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 AttributesOutOfScope::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void AttributesOutOfScope::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void AttributesOutOfScope::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+AttributesOutOfScope::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+AttributesOutOfScope::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// ProvideAttributeValueUpdate
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool ProvideAttributeValueUpdate::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ProvideAttributeValueUpdate::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ProvideAttributeValueUpdate::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ProvideAttributeValueUpdate::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& ProvideAttributeValueUpdate::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* ProvideAttributeValueUpdate::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* ProvideAttributeValueUpdate::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void ProvideAttributeValueUpdate::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int ProvideAttributeValueUpdate::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void ProvideAttributeValueUpdate::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 ProvideAttributeValueUpdate::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void ProvideAttributeValueUpdate::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void ProvideAttributeValueUpdate::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+ProvideAttributeValueUpdate::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+ProvideAttributeValueUpdate::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// optional bytes tag = 3;
+inline bool ProvideAttributeValueUpdate::has_tag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void ProvideAttributeValueUpdate::set_has_tag() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void ProvideAttributeValueUpdate::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void ProvideAttributeValueUpdate::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& ProvideAttributeValueUpdate::tag() const {
+  return *tag_;
+}
+inline void ProvideAttributeValueUpdate::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void ProvideAttributeValueUpdate::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void ProvideAttributeValueUpdate::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ProvideAttributeValueUpdate::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* ProvideAttributeValueUpdate::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void ProvideAttributeValueUpdate::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// TurnUpdatesOnForObjectInstance
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool TurnUpdatesOnForObjectInstance::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void TurnUpdatesOnForObjectInstance::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void TurnUpdatesOnForObjectInstance::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void TurnUpdatesOnForObjectInstance::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& TurnUpdatesOnForObjectInstance::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* TurnUpdatesOnForObjectInstance::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* TurnUpdatesOnForObjectInstance::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void TurnUpdatesOnForObjectInstance::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int TurnUpdatesOnForObjectInstance::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void TurnUpdatesOnForObjectInstance::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 TurnUpdatesOnForObjectInstance::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void TurnUpdatesOnForObjectInstance::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void TurnUpdatesOnForObjectInstance::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+TurnUpdatesOnForObjectInstance::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+TurnUpdatesOnForObjectInstance::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// required string updateRateDesignator = 3;
+inline bool TurnUpdatesOnForObjectInstance::has_updateratedesignator() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void TurnUpdatesOnForObjectInstance::set_has_updateratedesignator() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void TurnUpdatesOnForObjectInstance::clear_has_updateratedesignator() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void TurnUpdatesOnForObjectInstance::clear_updateratedesignator() {
+  if (updateratedesignator_ != &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_->clear();
+  }
+  clear_has_updateratedesignator();
+}
+inline const ::std::string& TurnUpdatesOnForObjectInstance::updateratedesignator() const {
+  return *updateratedesignator_;
+}
+inline void TurnUpdatesOnForObjectInstance::set_updateratedesignator(const ::std::string& value) {
+  set_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_ = new ::std::string;
+  }
+  updateratedesignator_->assign(value);
+}
+inline void TurnUpdatesOnForObjectInstance::set_updateratedesignator(const char* value) {
+  set_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_ = new ::std::string;
+  }
+  updateratedesignator_->assign(value);
+}
+inline void TurnUpdatesOnForObjectInstance::set_updateratedesignator(const char* value, size_t size) {
+  set_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_ = new ::std::string;
+  }
+  updateratedesignator_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* TurnUpdatesOnForObjectInstance::mutable_updateratedesignator() {
+  set_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_ = new ::std::string;
+  }
+  return updateratedesignator_;
+}
+inline ::std::string* TurnUpdatesOnForObjectInstance::release_updateratedesignator() {
+  clear_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = updateratedesignator_;
+    updateratedesignator_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void TurnUpdatesOnForObjectInstance::set_allocated_updateratedesignator(::std::string* updateratedesignator) {
+  if (updateratedesignator_ != &::google::protobuf::internal::kEmptyString) {
+    delete updateratedesignator_;
+  }
+  if (updateratedesignator) {
+    set_has_updateratedesignator();
+    updateratedesignator_ = updateratedesignator;
+  } else {
+    clear_has_updateratedesignator();
+    updateratedesignator_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// TurnUpdatesOffForObjectInstance
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool TurnUpdatesOffForObjectInstance::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void TurnUpdatesOffForObjectInstance::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void TurnUpdatesOffForObjectInstance::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void TurnUpdatesOffForObjectInstance::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& TurnUpdatesOffForObjectInstance::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* TurnUpdatesOffForObjectInstance::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* TurnUpdatesOffForObjectInstance::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void TurnUpdatesOffForObjectInstance::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int TurnUpdatesOffForObjectInstance::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void TurnUpdatesOffForObjectInstance::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 TurnUpdatesOffForObjectInstance::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void TurnUpdatesOffForObjectInstance::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void TurnUpdatesOffForObjectInstance::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+TurnUpdatesOffForObjectInstance::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+TurnUpdatesOffForObjectInstance::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// ReceiveInteraction
+
+// required uint32 interactionClassHandle = 1;
+inline bool ReceiveInteraction::has_interactionclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ReceiveInteraction::set_has_interactionclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ReceiveInteraction::clear_has_interactionclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ReceiveInteraction::clear_interactionclasshandle() {
+  interactionclasshandle_ = 0u;
+  clear_has_interactionclasshandle();
+}
+inline ::google::protobuf::uint32 ReceiveInteraction::interactionclasshandle() const {
+  return interactionclasshandle_;
+}
+inline void ReceiveInteraction::set_interactionclasshandle(::google::protobuf::uint32 value) {
+  set_has_interactionclasshandle();
+  interactionclasshandle_ = value;
+}
+
+// repeated .ohla.rti.messages.proto.ParameterValue parameterValues = 2;
+inline int ReceiveInteraction::parametervalues_size() const {
+  return parametervalues_.size();
+}
+inline void ReceiveInteraction::clear_parametervalues() {
+  parametervalues_.Clear();
+}
+inline const ::ohla::rti::messages::proto::ParameterValue& ReceiveInteraction::parametervalues(int index) const {
+  return parametervalues_.Get(index);
+}
+inline ::ohla::rti::messages::proto::ParameterValue* ReceiveInteraction::mutable_parametervalues(int index) {
+  return parametervalues_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::ParameterValue* ReceiveInteraction::add_parametervalues() {
+  return parametervalues_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ParameterValue >&
+ReceiveInteraction::parametervalues() const {
+  return parametervalues_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ParameterValue >*
+ReceiveInteraction::mutable_parametervalues() {
+  return &parametervalues_;
+}
+
+// optional bytes tag = 3;
+inline bool ReceiveInteraction::has_tag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void ReceiveInteraction::set_has_tag() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void ReceiveInteraction::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void ReceiveInteraction::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& ReceiveInteraction::tag() const {
+  return *tag_;
+}
+inline void ReceiveInteraction::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void ReceiveInteraction::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void ReceiveInteraction::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ReceiveInteraction::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* ReceiveInteraction::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void ReceiveInteraction::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required .ohla.rti.proto.OrderType sentOrderType = 4;
+inline bool ReceiveInteraction::has_sentordertype() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void ReceiveInteraction::set_has_sentordertype() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void ReceiveInteraction::clear_has_sentordertype() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void ReceiveInteraction::clear_sentordertype() {
+  sentordertype_ = 1;
+  clear_has_sentordertype();
+}
+inline ::ohla::rti::proto::OrderType ReceiveInteraction::sentordertype() const {
+  return static_cast< ::ohla::rti::proto::OrderType >(sentordertype_);
+}
+inline void ReceiveInteraction::set_sentordertype(::ohla::rti::proto::OrderType value) {
+  assert(::ohla::rti::proto::OrderType_IsValid(value));
+  set_has_sentordertype();
+  sentordertype_ = value;
+}
+
+// required .ohla.rti.proto.OrderType receivedOrderType = 5;
+inline bool ReceiveInteraction::has_receivedordertype() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void ReceiveInteraction::set_has_receivedordertype() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void ReceiveInteraction::clear_has_receivedordertype() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void ReceiveInteraction::clear_receivedordertype() {
+  receivedordertype_ = 1;
+  clear_has_receivedordertype();
+}
+inline ::ohla::rti::proto::OrderType ReceiveInteraction::receivedordertype() const {
+  return static_cast< ::ohla::rti::proto::OrderType >(receivedordertype_);
+}
+inline void ReceiveInteraction::set_receivedordertype(::ohla::rti::proto::OrderType value) {
+  assert(::ohla::rti::proto::OrderType_IsValid(value));
+  set_has_receivedordertype();
+  receivedordertype_ = value;
+}
+
+// required uint32 transportationTypeHandle = 6;
+inline bool ReceiveInteraction::has_transportationtypehandle() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void ReceiveInteraction::set_has_transportationtypehandle() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void ReceiveInteraction::clear_has_transportationtypehandle() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void ReceiveInteraction::clear_transportationtypehandle() {
+  transportationtypehandle_ = 0u;
+  clear_has_transportationtypehandle();
+}
+inline ::google::protobuf::uint32 ReceiveInteraction::transportationtypehandle() const {
+  return transportationtypehandle_;
+}
+inline void ReceiveInteraction::set_transportationtypehandle(::google::protobuf::uint32 value) {
+  set_has_transportationtypehandle();
+  transportationtypehandle_ = value;
+}
+
+// optional bytes time = 7;
+inline bool ReceiveInteraction::has_time() const {
+  return (_has_bits_[0] & 0x00000040u) != 0;
+}
+inline void ReceiveInteraction::set_has_time() {
+  _has_bits_[0] |= 0x00000040u;
+}
+inline void ReceiveInteraction::clear_has_time() {
+  _has_bits_[0] &= ~0x00000040u;
+}
+inline void ReceiveInteraction::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& ReceiveInteraction::time() const {
+  return *time_;
+}
+inline void ReceiveInteraction::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void ReceiveInteraction::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void ReceiveInteraction::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ReceiveInteraction::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* ReceiveInteraction::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void ReceiveInteraction::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 8;
+inline bool ReceiveInteraction::has_messageretractionhandle() const {
+  return (_has_bits_[0] & 0x00000080u) != 0;
+}
+inline void ReceiveInteraction::set_has_messageretractionhandle() {
+  _has_bits_[0] |= 0x00000080u;
+}
+inline void ReceiveInteraction::clear_has_messageretractionhandle() {
+  _has_bits_[0] &= ~0x00000080u;
+}
+inline void ReceiveInteraction::clear_messageretractionhandle() {
+  if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+  clear_has_messageretractionhandle();
+}
+inline const ::ohla::rti::proto::MessageRetractionHandle& ReceiveInteraction::messageretractionhandle() const {
+  return messageretractionhandle_ != NULL ? *messageretractionhandle_ : *default_instance_->messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* ReceiveInteraction::mutable_messageretractionhandle() {
+  set_has_messageretractionhandle();
+  if (messageretractionhandle_ == NULL) messageretractionhandle_ = new ::ohla::rti::proto::MessageRetractionHandle;
+  return messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* ReceiveInteraction::release_messageretractionhandle() {
+  clear_has_messageretractionhandle();
+  ::ohla::rti::proto::MessageRetractionHandle* temp = messageretractionhandle_;
+  messageretractionhandle_ = NULL;
+  return temp;
+}
+inline void ReceiveInteraction::set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle) {
+  delete messageretractionhandle_;
+  messageretractionhandle_ = messageretractionhandle;
+  if (messageretractionhandle) {
+    set_has_messageretractionhandle();
+  } else {
+    clear_has_messageretractionhandle();
+  }
+}
+
+// required uint32 producingFederateHandle = 9;
+inline bool ReceiveInteraction::has_producingfederatehandle() const {
+  return (_has_bits_[0] & 0x00000100u) != 0;
+}
+inline void ReceiveInteraction::set_has_producingfederatehandle() {
+  _has_bits_[0] |= 0x00000100u;
+}
+inline void ReceiveInteraction::clear_has_producingfederatehandle() {
+  _has_bits_[0] &= ~0x00000100u;
+}
+inline void ReceiveInteraction::clear_producingfederatehandle() {
+  producingfederatehandle_ = 0u;
+  clear_has_producingfederatehandle();
+}
+inline ::google::protobuf::uint32 ReceiveInteraction::producingfederatehandle() const {
+  return producingfederatehandle_;
+}
+inline void ReceiveInteraction::set_producingfederatehandle(::google::protobuf::uint32 value) {
+  set_has_producingfederatehandle();
+  producingfederatehandle_ = value;
+}
+
+// repeated .ohla.rti.messages.proto.Region regions = 10;
+inline int ReceiveInteraction::regions_size() const {
+  return regions_.size();
+}
+inline void ReceiveInteraction::clear_regions() {
+  regions_.Clear();
+}
+inline const ::ohla::rti::messages::proto::Region& ReceiveInteraction::regions(int index) const {
+  return regions_.Get(index);
+}
+inline ::ohla::rti::messages::proto::Region* ReceiveInteraction::mutable_regions(int index) {
+  return regions_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::Region* ReceiveInteraction::add_regions() {
+  return regions_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::Region >&
+ReceiveInteraction::regions() const {
+  return regions_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::Region >*
+ReceiveInteraction::mutable_regions() {
+  return &regions_;
+}
+
+// -------------------------------------------------------------------
+
+// RequestAttributeOwnershipAssumption
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool RequestAttributeOwnershipAssumption::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestAttributeOwnershipAssumption::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestAttributeOwnershipAssumption::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestAttributeOwnershipAssumption::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& RequestAttributeOwnershipAssumption::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* RequestAttributeOwnershipAssumption::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* RequestAttributeOwnershipAssumption::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void RequestAttributeOwnershipAssumption::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int RequestAttributeOwnershipAssumption::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void RequestAttributeOwnershipAssumption::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 RequestAttributeOwnershipAssumption::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void RequestAttributeOwnershipAssumption::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void RequestAttributeOwnershipAssumption::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+RequestAttributeOwnershipAssumption::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+RequestAttributeOwnershipAssumption::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// optional bytes tag = 3;
+inline bool RequestAttributeOwnershipAssumption::has_tag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void RequestAttributeOwnershipAssumption::set_has_tag() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void RequestAttributeOwnershipAssumption::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void RequestAttributeOwnershipAssumption::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& RequestAttributeOwnershipAssumption::tag() const {
+  return *tag_;
+}
+inline void RequestAttributeOwnershipAssumption::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void RequestAttributeOwnershipAssumption::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void RequestAttributeOwnershipAssumption::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RequestAttributeOwnershipAssumption::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* RequestAttributeOwnershipAssumption::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RequestAttributeOwnershipAssumption::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// RequestDivestitureConfirmation
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool RequestDivestitureConfirmation::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestDivestitureConfirmation::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestDivestitureConfirmation::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestDivestitureConfirmation::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& RequestDivestitureConfirmation::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* RequestDivestitureConfirmation::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* RequestDivestitureConfirmation::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void RequestDivestitureConfirmation::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int RequestDivestitureConfirmation::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void RequestDivestitureConfirmation::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 RequestDivestitureConfirmation::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void RequestDivestitureConfirmation::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void RequestDivestitureConfirmation::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+RequestDivestitureConfirmation::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+RequestDivestitureConfirmation::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// AttributeOwnershipAcquisitionNotification
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool AttributeOwnershipAcquisitionNotification::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AttributeOwnershipAcquisitionNotification::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AttributeOwnershipAcquisitionNotification::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AttributeOwnershipAcquisitionNotification::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& AttributeOwnershipAcquisitionNotification::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributeOwnershipAcquisitionNotification::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributeOwnershipAcquisitionNotification::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void AttributeOwnershipAcquisitionNotification::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int AttributeOwnershipAcquisitionNotification::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void AttributeOwnershipAcquisitionNotification::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 AttributeOwnershipAcquisitionNotification::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void AttributeOwnershipAcquisitionNotification::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void AttributeOwnershipAcquisitionNotification::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+AttributeOwnershipAcquisitionNotification::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+AttributeOwnershipAcquisitionNotification::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// optional bytes tag = 3;
+inline bool AttributeOwnershipAcquisitionNotification::has_tag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void AttributeOwnershipAcquisitionNotification::set_has_tag() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void AttributeOwnershipAcquisitionNotification::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void AttributeOwnershipAcquisitionNotification::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& AttributeOwnershipAcquisitionNotification::tag() const {
+  return *tag_;
+}
+inline void AttributeOwnershipAcquisitionNotification::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void AttributeOwnershipAcquisitionNotification::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void AttributeOwnershipAcquisitionNotification::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* AttributeOwnershipAcquisitionNotification::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* AttributeOwnershipAcquisitionNotification::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void AttributeOwnershipAcquisitionNotification::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// AttributeOwnershipUnavailable
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool AttributeOwnershipUnavailable::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AttributeOwnershipUnavailable::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AttributeOwnershipUnavailable::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AttributeOwnershipUnavailable::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& AttributeOwnershipUnavailable::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributeOwnershipUnavailable::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributeOwnershipUnavailable::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void AttributeOwnershipUnavailable::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int AttributeOwnershipUnavailable::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void AttributeOwnershipUnavailable::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 AttributeOwnershipUnavailable::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void AttributeOwnershipUnavailable::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void AttributeOwnershipUnavailable::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+AttributeOwnershipUnavailable::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+AttributeOwnershipUnavailable::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// RequestAttributeOwnershipRelease
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool RequestAttributeOwnershipRelease::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestAttributeOwnershipRelease::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestAttributeOwnershipRelease::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestAttributeOwnershipRelease::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& RequestAttributeOwnershipRelease::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* RequestAttributeOwnershipRelease::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* RequestAttributeOwnershipRelease::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void RequestAttributeOwnershipRelease::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int RequestAttributeOwnershipRelease::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void RequestAttributeOwnershipRelease::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 RequestAttributeOwnershipRelease::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void RequestAttributeOwnershipRelease::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void RequestAttributeOwnershipRelease::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+RequestAttributeOwnershipRelease::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+RequestAttributeOwnershipRelease::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// optional bytes tag = 3;
+inline bool RequestAttributeOwnershipRelease::has_tag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void RequestAttributeOwnershipRelease::set_has_tag() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void RequestAttributeOwnershipRelease::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void RequestAttributeOwnershipRelease::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& RequestAttributeOwnershipRelease::tag() const {
+  return *tag_;
+}
+inline void RequestAttributeOwnershipRelease::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void RequestAttributeOwnershipRelease::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void RequestAttributeOwnershipRelease::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RequestAttributeOwnershipRelease::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* RequestAttributeOwnershipRelease::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RequestAttributeOwnershipRelease::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// ConfirmAttributeOwnershipAcquisitionCancellation
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool ConfirmAttributeOwnershipAcquisitionCancellation::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ConfirmAttributeOwnershipAcquisitionCancellation::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ConfirmAttributeOwnershipAcquisitionCancellation::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ConfirmAttributeOwnershipAcquisitionCancellation::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& ConfirmAttributeOwnershipAcquisitionCancellation::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* ConfirmAttributeOwnershipAcquisitionCancellation::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* ConfirmAttributeOwnershipAcquisitionCancellation::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void ConfirmAttributeOwnershipAcquisitionCancellation::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int ConfirmAttributeOwnershipAcquisitionCancellation::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void ConfirmAttributeOwnershipAcquisitionCancellation::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 ConfirmAttributeOwnershipAcquisitionCancellation::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void ConfirmAttributeOwnershipAcquisitionCancellation::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void ConfirmAttributeOwnershipAcquisitionCancellation::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+ConfirmAttributeOwnershipAcquisitionCancellation::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+ConfirmAttributeOwnershipAcquisitionCancellation::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// InformAttributeOwnership
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool InformAttributeOwnership::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void InformAttributeOwnership::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void InformAttributeOwnership::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void InformAttributeOwnership::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& InformAttributeOwnership::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* InformAttributeOwnership::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* InformAttributeOwnership::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void InformAttributeOwnership::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// required uint32 attributeHandle = 2;
+inline bool InformAttributeOwnership::has_attributehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void InformAttributeOwnership::set_has_attributehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void InformAttributeOwnership::clear_has_attributehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void InformAttributeOwnership::clear_attributehandle() {
+  attributehandle_ = 0u;
+  clear_has_attributehandle();
+}
+inline ::google::protobuf::uint32 InformAttributeOwnership::attributehandle() const {
+  return attributehandle_;
+}
+inline void InformAttributeOwnership::set_attributehandle(::google::protobuf::uint32 value) {
+  set_has_attributehandle();
+  attributehandle_ = value;
+}
+
+// required uint32 federateHandle = 3;
+inline bool InformAttributeOwnership::has_federatehandle() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void InformAttributeOwnership::set_has_federatehandle() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void InformAttributeOwnership::clear_has_federatehandle() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void InformAttributeOwnership::clear_federatehandle() {
+  federatehandle_ = 0u;
+  clear_has_federatehandle();
+}
+inline ::google::protobuf::uint32 InformAttributeOwnership::federatehandle() const {
+  return federatehandle_;
+}
+inline void InformAttributeOwnership::set_federatehandle(::google::protobuf::uint32 value) {
+  set_has_federatehandle();
+  federatehandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// AttributeIsNotOwned
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool AttributeIsNotOwned::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AttributeIsNotOwned::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AttributeIsNotOwned::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AttributeIsNotOwned::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& AttributeIsNotOwned::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributeIsNotOwned::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributeIsNotOwned::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void AttributeIsNotOwned::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// required uint32 attributeHandle = 2;
+inline bool AttributeIsNotOwned::has_attributehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void AttributeIsNotOwned::set_has_attributehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void AttributeIsNotOwned::clear_has_attributehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void AttributeIsNotOwned::clear_attributehandle() {
+  attributehandle_ = 0u;
+  clear_has_attributehandle();
+}
+inline ::google::protobuf::uint32 AttributeIsNotOwned::attributehandle() const {
+  return attributehandle_;
+}
+inline void AttributeIsNotOwned::set_attributehandle(::google::protobuf::uint32 value) {
+  set_has_attributehandle();
+  attributehandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// AttributeIsOwnedByRTI
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool AttributeIsOwnedByRTI::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AttributeIsOwnedByRTI::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AttributeIsOwnedByRTI::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AttributeIsOwnedByRTI::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& AttributeIsOwnedByRTI::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributeIsOwnedByRTI::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributeIsOwnedByRTI::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void AttributeIsOwnedByRTI::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// required uint32 attributeHandle = 2;
+inline bool AttributeIsOwnedByRTI::has_attributehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void AttributeIsOwnedByRTI::set_has_attributehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void AttributeIsOwnedByRTI::clear_has_attributehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void AttributeIsOwnedByRTI::clear_attributehandle() {
+  attributehandle_ = 0u;
+  clear_has_attributehandle();
+}
+inline ::google::protobuf::uint32 AttributeIsOwnedByRTI::attributehandle() const {
+  return attributehandle_;
+}
+inline void AttributeIsOwnedByRTI::set_attributehandle(::google::protobuf::uint32 value) {
+  set_has_attributehandle();
+  attributehandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// TimeRegulationEnabled
+
+// required bytes time = 1;
+inline bool TimeRegulationEnabled::has_time() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void TimeRegulationEnabled::set_has_time() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void TimeRegulationEnabled::clear_has_time() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void TimeRegulationEnabled::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& TimeRegulationEnabled::time() const {
+  return *time_;
+}
+inline void TimeRegulationEnabled::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void TimeRegulationEnabled::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void TimeRegulationEnabled::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* TimeRegulationEnabled::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* TimeRegulationEnabled::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void TimeRegulationEnabled::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// TimeConstrainedEnabled
+
+// required bytes time = 1;
+inline bool TimeConstrainedEnabled::has_time() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void TimeConstrainedEnabled::set_has_time() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void TimeConstrainedEnabled::clear_has_time() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void TimeConstrainedEnabled::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& TimeConstrainedEnabled::time() const {
+  return *time_;
+}
+inline void TimeConstrainedEnabled::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void TimeConstrainedEnabled::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void TimeConstrainedEnabled::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* TimeConstrainedEnabled::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* TimeConstrainedEnabled::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void TimeConstrainedEnabled::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// TimeAdvanceGrant
+
+// required bytes time = 1;
+inline bool TimeAdvanceGrant::has_time() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void TimeAdvanceGrant::set_has_time() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void TimeAdvanceGrant::clear_has_time() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void TimeAdvanceGrant::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& TimeAdvanceGrant::time() const {
+  return *time_;
+}
+inline void TimeAdvanceGrant::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void TimeAdvanceGrant::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void TimeAdvanceGrant::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* TimeAdvanceGrant::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* TimeAdvanceGrant::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void TimeAdvanceGrant::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// RequestRetraction
+
+// required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 1;
+inline bool RequestRetraction::has_messageretractionhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestRetraction::set_has_messageretractionhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestRetraction::clear_has_messageretractionhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestRetraction::clear_messageretractionhandle() {
+  if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+  clear_has_messageretractionhandle();
+}
+inline const ::ohla::rti::proto::MessageRetractionHandle& RequestRetraction::messageretractionhandle() const {
+  return messageretractionhandle_ != NULL ? *messageretractionhandle_ : *default_instance_->messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* RequestRetraction::mutable_messageretractionhandle() {
+  set_has_messageretractionhandle();
+  if (messageretractionhandle_ == NULL) messageretractionhandle_ = new ::ohla::rti::proto::MessageRetractionHandle;
+  return messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* RequestRetraction::release_messageretractionhandle() {
+  clear_has_messageretractionhandle();
+  ::ohla::rti::proto::MessageRetractionHandle* temp = messageretractionhandle_;
+  messageretractionhandle_ = NULL;
+  return temp;
+}
+inline void RequestRetraction::set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle) {
+  delete messageretractionhandle_;
+  messageretractionhandle_ = messageretractionhandle;
+  if (messageretractionhandle) {
+    set_has_messageretractionhandle();
+  } else {
+    clear_has_messageretractionhandle();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// ResignedFederationExecution
+
+
+// @@protoc_insertion_point(namespace_scope)
+
+}  // namespace proto
+}  // namespace messages
+}  // namespace rti
+}  // namespace ohla
+
+#ifndef SWIG
+namespace google {
+namespace protobuf {
+
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure_Cause>() {
+  return ::ohla::rti::messages::proto::JoinFederationExecutionResponse_Failure_Cause_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure_Cause>() {
+  return ::ohla::rti::messages::proto::RequestFederationSaveResponse_Failure_Cause_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure_Cause>() {
+  return ::ohla::rti::messages::proto::AbortFederationSaveResponse_Failure_Cause_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure_Cause>() {
+  return ::ohla::rti::messages::proto::RequestFederationRestoreResponse_Failure_Cause_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure_Cause>() {
+  return ::ohla::rti::messages::proto::AbortFederationRestoreResponse_Failure_Cause_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure_Cause>() {
+  return ::ohla::rti::messages::proto::GetFederateHandleResponse_Failure_Cause_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::GetFederateNameResponse_Failure_Cause>() {
+  return ::ohla::rti::messages::proto::GetFederateNameResponse_Failure_Cause_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure_Cause>() {
+  return ::ohla::rti::messages::proto::GetUpdateRateValueForAttributeResponse_Failure_Cause_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::RetractResponse_Failure_Cause>() {
+  return ::ohla::rti::messages::proto::RetractResponse_Failure_Cause_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure_Cause>() {
+  return ::ohla::rti::messages::proto::AssociateRegionsForUpdatesResponse_Failure_Cause_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure_Cause>() {
+  return ::ohla::rti::messages::proto::UnassociateRegionsForUpdatesResponse_Failure_Cause_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::SynchronizationPointFailureReason>() {
+  return ::ohla::rti::messages::proto::SynchronizationPointFailureReason_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::SaveFailureReason>() {
+  return ::ohla::rti::messages::proto::SaveFailureReason_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::SaveStatus>() {
+  return ::ohla::rti::messages::proto::SaveStatus_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::RestoreFailureReason>() {
+  return ::ohla::rti::messages::proto::RestoreFailureReason_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::RestoreStatus>() {
+  return ::ohla::rti::messages::proto::RestoreStatus_descriptor();
+}
+
+}  // namespace google
+}  // namespace protobuf
+#endif  // SWIG
+
+// @@protoc_insertion_point(global_scope)
+
+#endif  // PROTOBUF_FederateMessageProtos_2eproto__INCLUDED
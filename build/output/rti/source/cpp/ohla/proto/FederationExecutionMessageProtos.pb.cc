@@ -0,0 +1,21039 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: FederationExecutionMessageProtos.proto
+
+#define INTERNAL_SUPPRESS_PROTOBUF_FIELD_DEPRECATION
+#include "FederationExecutionMessageProtos.pb.h"
+
+#include <algorithm>
+
+#include <google/protobuf/stubs/common.h>
+#include <google/protobuf/stubs/once.h>
+#include <google/protobuf/io/coded_stream.h>
+#include <google/protobuf/wire_format_lite_inl.h>
+#include <google/protobuf/descriptor.h>
+#include <google/protobuf/generated_message_reflection.h>
+#include <google/protobuf/reflection_ops.h>
+#include <google/protobuf/wire_format.h>
+// @@protoc_insertion_point(includes)
+
+namespace ohla {
+namespace rti {
+namespace messages {
+namespace proto {
+
+namespace {
+
+const ::google::protobuf::Descriptor* ResignFederationExecution_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ResignFederationExecution_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RegisterFederationSynchronizationPoint_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RegisterFederationSynchronizationPoint_reflection_ = NULL;
+const ::google::protobuf::Descriptor* SynchronizationPointAchieved_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  SynchronizationPointAchieved_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RequestFederationSave_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestFederationSave_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AbortFederationSave_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AbortFederationSave_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateSaveBegun_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateSaveBegun_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateSaveComplete_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateSaveComplete_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateSaveNotComplete_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateSaveNotComplete_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RequestFederationRestore_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestFederationRestore_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AbortFederationRestore_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AbortFederationRestore_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateRestoreComplete_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateRestoreComplete_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateRestoreNotComplete_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateRestoreNotComplete_reflection_ = NULL;
+const ::google::protobuf::Descriptor* PublishObjectClassAttributes_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  PublishObjectClassAttributes_reflection_ = NULL;
+const ::google::protobuf::Descriptor* UnpublishObjectClass_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  UnpublishObjectClass_reflection_ = NULL;
+const ::google::protobuf::Descriptor* UnpublishObjectClassAttributes_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  UnpublishObjectClassAttributes_reflection_ = NULL;
+const ::google::protobuf::Descriptor* PublishInteractionClass_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  PublishInteractionClass_reflection_ = NULL;
+const ::google::protobuf::Descriptor* UnpublishInteractionClass_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  UnpublishInteractionClass_reflection_ = NULL;
+const ::google::protobuf::Descriptor* SubscribeObjectClassAttributes_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  SubscribeObjectClassAttributes_reflection_ = NULL;
+const ::google::protobuf::Descriptor* UnsubscribeObjectClassAttributes_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  UnsubscribeObjectClassAttributes_reflection_ = NULL;
+const ::google::protobuf::Descriptor* SubscribeInteractionClass_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  SubscribeInteractionClass_reflection_ = NULL;
+const ::google::protobuf::Descriptor* UnsubscribeInteractionClass_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  UnsubscribeInteractionClass_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ReserveObjectInstanceName_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ReserveObjectInstanceName_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ReleaseObjectInstanceName_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ReleaseObjectInstanceName_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ReserveMultipleObjectInstanceName_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ReserveMultipleObjectInstanceName_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ReleaseMultipleObjectInstanceName_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ReleaseMultipleObjectInstanceName_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AttributeRegionAssociation_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AttributeRegionAssociation_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RegisterObjectInstance_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RegisterObjectInstance_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RegisterObjectInstanceWithRegions_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RegisterObjectInstanceWithRegions_reflection_ = NULL;
+const ::google::protobuf::Descriptor* UpdateAttributeValues_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  UpdateAttributeValues_reflection_ = NULL;
+const ::google::protobuf::Descriptor* SendInteraction_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  SendInteraction_reflection_ = NULL;
+const ::google::protobuf::Descriptor* DeleteObjectInstance_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  DeleteObjectInstance_reflection_ = NULL;
+const ::google::protobuf::Descriptor* LocalDeleteObjectInstance_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  LocalDeleteObjectInstance_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RequestObjectInstanceAttributeValueUpdate_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestObjectInstanceAttributeValueUpdate_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RequestObjectClassAttributeValueUpdate_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestObjectClassAttributeValueUpdate_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RequestObjectClassAttributeValueUpdateWithRegions_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RequestObjectClassAttributeValueUpdateWithRegions_reflection_ = NULL;
+const ::google::protobuf::Descriptor* SetAutomaticResignDirective_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  SetAutomaticResignDirective_reflection_ = NULL;
+const ::google::protobuf::Descriptor* GetFederateHandle_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  GetFederateHandle_reflection_ = NULL;
+const ::google::protobuf::Descriptor* GetFederateName_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  GetFederateName_reflection_ = NULL;
+const ::google::protobuf::Descriptor* GetUpdateRateValueForAttribute_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  GetUpdateRateValueForAttribute_reflection_ = NULL;
+const ::google::protobuf::Descriptor* QueryInteractionTransportationType_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  QueryInteractionTransportationType_reflection_ = NULL;
+const ::google::protobuf::Descriptor* UnconditionalAttributeOwnershipDivestiture_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  UnconditionalAttributeOwnershipDivestiture_reflection_ = NULL;
+const ::google::protobuf::Descriptor* NegotiatedAttributeOwnershipDivestiture_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  NegotiatedAttributeOwnershipDivestiture_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ConfirmDivestiture_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ConfirmDivestiture_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AttributeOwnershipAcquisition_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AttributeOwnershipAcquisition_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AttributeOwnershipAcquisitionIfAvailable_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AttributeOwnershipAcquisitionIfAvailable_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AttributeOwnershipDivestitureIfWanted_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AttributeOwnershipDivestitureIfWanted_reflection_ = NULL;
+const ::google::protobuf::Descriptor* CancelNegotiatedAttributeOwnershipDivestiture_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  CancelNegotiatedAttributeOwnershipDivestiture_reflection_ = NULL;
+const ::google::protobuf::Descriptor* CancelAttributeOwnershipAcquisition_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  CancelAttributeOwnershipAcquisition_reflection_ = NULL;
+const ::google::protobuf::Descriptor* QueryAttributeOwnership_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  QueryAttributeOwnership_reflection_ = NULL;
+const ::google::protobuf::Descriptor* EnableTimeRegulation_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  EnableTimeRegulation_reflection_ = NULL;
+const ::google::protobuf::Descriptor* DisableTimeRegulation_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  DisableTimeRegulation_reflection_ = NULL;
+const ::google::protobuf::Descriptor* EnableTimeConstrained_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  EnableTimeConstrained_reflection_ = NULL;
+const ::google::protobuf::Descriptor* DisableTimeConstrained_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  DisableTimeConstrained_reflection_ = NULL;
+const ::google::protobuf::Descriptor* TimeAdvanceRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  TimeAdvanceRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* TimeAdvanceRequestAvailable_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  TimeAdvanceRequestAvailable_reflection_ = NULL;
+const ::google::protobuf::Descriptor* NextMessageRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  NextMessageRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* NextMessageRequestAvailable_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  NextMessageRequestAvailable_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FlushQueueRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FlushQueueRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* QueryGALT_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  QueryGALT_reflection_ = NULL;
+const ::google::protobuf::Descriptor* QueryLITS_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  QueryLITS_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ModifyLookahead_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ModifyLookahead_reflection_ = NULL;
+const ::google::protobuf::Descriptor* Retract_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  Retract_reflection_ = NULL;
+const ::google::protobuf::Descriptor* CreateRegion_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  CreateRegion_reflection_ = NULL;
+const ::google::protobuf::Descriptor* CommitRegionModifications_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  CommitRegionModifications_reflection_ = NULL;
+const ::google::protobuf::Descriptor* CommitRegionModifications_RegionModification_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  CommitRegionModifications_RegionModification_reflection_ = NULL;
+const ::google::protobuf::Descriptor* DeleteRegion_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  DeleteRegion_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AssociateRegionsForUpdates_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AssociateRegionsForUpdates_reflection_ = NULL;
+const ::google::protobuf::Descriptor* UnassociateRegionsForUpdates_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  UnassociateRegionsForUpdates_reflection_ = NULL;
+const ::google::protobuf::Descriptor* SubscribeObjectClassAttributesWithRegions_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  SubscribeObjectClassAttributesWithRegions_reflection_ = NULL;
+const ::google::protobuf::Descriptor* UnsubscribeObjectClassAttributesWithRegions_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  UnsubscribeObjectClassAttributesWithRegions_reflection_ = NULL;
+const ::google::protobuf::Descriptor* SubscribeInteractionClassWithRegions_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  SubscribeInteractionClassWithRegions_reflection_ = NULL;
+const ::google::protobuf::Descriptor* UnsubscribeInteractionClassWithRegions_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  UnsubscribeInteractionClassWithRegions_reflection_ = NULL;
+const ::google::protobuf::Descriptor* QueryFederationSaveStatus_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  QueryFederationSaveStatus_reflection_ = NULL;
+const ::google::protobuf::Descriptor* QueryFederationRestoreStatus_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  QueryFederationRestoreStatus_reflection_ = NULL;
+
+}  // namespace
+
+
+void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto() {
+  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  const ::google::protobuf::FileDescriptor* file =
+    ::google::protobuf::DescriptorPool::generated_pool()->FindFileByName(
+      "FederationExecutionMessageProtos.proto");
+  GOOGLE_CHECK(file != NULL);
+  ResignFederationExecution_descriptor_ = file->message_type(0);
+  static const int ResignFederationExecution_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ResignFederationExecution, resignaction_),
+  };
+  ResignFederationExecution_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ResignFederationExecution_descriptor_,
+      ResignFederationExecution::default_instance_,
+      ResignFederationExecution_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ResignFederationExecution, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ResignFederationExecution, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ResignFederationExecution));
+  RegisterFederationSynchronizationPoint_descriptor_ = file->message_type(1);
+  static const int RegisterFederationSynchronizationPoint_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterFederationSynchronizationPoint, label_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterFederationSynchronizationPoint, tag_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterFederationSynchronizationPoint, federatehandles_),
+  };
+  RegisterFederationSynchronizationPoint_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RegisterFederationSynchronizationPoint_descriptor_,
+      RegisterFederationSynchronizationPoint::default_instance_,
+      RegisterFederationSynchronizationPoint_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterFederationSynchronizationPoint, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterFederationSynchronizationPoint, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RegisterFederationSynchronizationPoint));
+  SynchronizationPointAchieved_descriptor_ = file->message_type(2);
+  static const int SynchronizationPointAchieved_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SynchronizationPointAchieved, label_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SynchronizationPointAchieved, successful_),
+  };
+  SynchronizationPointAchieved_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      SynchronizationPointAchieved_descriptor_,
+      SynchronizationPointAchieved::default_instance_,
+      SynchronizationPointAchieved_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SynchronizationPointAchieved, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SynchronizationPointAchieved, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(SynchronizationPointAchieved));
+  RequestFederationSave_descriptor_ = file->message_type(3);
+  static const int RequestFederationSave_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationSave, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationSave, label_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationSave, time_),
+  };
+  RequestFederationSave_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestFederationSave_descriptor_,
+      RequestFederationSave::default_instance_,
+      RequestFederationSave_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationSave, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationSave, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestFederationSave));
+  AbortFederationSave_descriptor_ = file->message_type(4);
+  static const int AbortFederationSave_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationSave, requestid_),
+  };
+  AbortFederationSave_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AbortFederationSave_descriptor_,
+      AbortFederationSave::default_instance_,
+      AbortFederationSave_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationSave, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationSave, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AbortFederationSave));
+  FederateSaveBegun_descriptor_ = file->message_type(5);
+  static const int FederateSaveBegun_offsets_[1] = {
+  };
+  FederateSaveBegun_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateSaveBegun_descriptor_,
+      FederateSaveBegun::default_instance_,
+      FederateSaveBegun_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveBegun, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveBegun, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateSaveBegun));
+  FederateSaveComplete_descriptor_ = file->message_type(6);
+  static const int FederateSaveComplete_offsets_[1] = {
+  };
+  FederateSaveComplete_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateSaveComplete_descriptor_,
+      FederateSaveComplete::default_instance_,
+      FederateSaveComplete_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveComplete, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveComplete, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateSaveComplete));
+  FederateSaveNotComplete_descriptor_ = file->message_type(7);
+  static const int FederateSaveNotComplete_offsets_[1] = {
+  };
+  FederateSaveNotComplete_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateSaveNotComplete_descriptor_,
+      FederateSaveNotComplete::default_instance_,
+      FederateSaveNotComplete_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveNotComplete, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveNotComplete, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateSaveNotComplete));
+  RequestFederationRestore_descriptor_ = file->message_type(8);
+  static const int RequestFederationRestore_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestore, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestore, label_),
+  };
+  RequestFederationRestore_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestFederationRestore_descriptor_,
+      RequestFederationRestore::default_instance_,
+      RequestFederationRestore_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestore, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestFederationRestore, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestFederationRestore));
+  AbortFederationRestore_descriptor_ = file->message_type(9);
+  static const int AbortFederationRestore_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationRestore, requestid_),
+  };
+  AbortFederationRestore_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AbortFederationRestore_descriptor_,
+      AbortFederationRestore::default_instance_,
+      AbortFederationRestore_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationRestore, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AbortFederationRestore, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AbortFederationRestore));
+  FederateRestoreComplete_descriptor_ = file->message_type(10);
+  static const int FederateRestoreComplete_offsets_[1] = {
+  };
+  FederateRestoreComplete_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateRestoreComplete_descriptor_,
+      FederateRestoreComplete::default_instance_,
+      FederateRestoreComplete_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateRestoreComplete, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateRestoreComplete, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateRestoreComplete));
+  FederateRestoreNotComplete_descriptor_ = file->message_type(11);
+  static const int FederateRestoreNotComplete_offsets_[1] = {
+  };
+  FederateRestoreNotComplete_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateRestoreNotComplete_descriptor_,
+      FederateRestoreNotComplete::default_instance_,
+      FederateRestoreNotComplete_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateRestoreNotComplete, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateRestoreNotComplete, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateRestoreNotComplete));
+  PublishObjectClassAttributes_descriptor_ = file->message_type(12);
+  static const int PublishObjectClassAttributes_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PublishObjectClassAttributes, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PublishObjectClassAttributes, attributehandles_),
+  };
+  PublishObjectClassAttributes_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      PublishObjectClassAttributes_descriptor_,
+      PublishObjectClassAttributes::default_instance_,
+      PublishObjectClassAttributes_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PublishObjectClassAttributes, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PublishObjectClassAttributes, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(PublishObjectClassAttributes));
+  UnpublishObjectClass_descriptor_ = file->message_type(13);
+  static const int UnpublishObjectClass_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnpublishObjectClass, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnpublishObjectClass, objectinstancehandles_),
+  };
+  UnpublishObjectClass_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      UnpublishObjectClass_descriptor_,
+      UnpublishObjectClass::default_instance_,
+      UnpublishObjectClass_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnpublishObjectClass, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnpublishObjectClass, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(UnpublishObjectClass));
+  UnpublishObjectClassAttributes_descriptor_ = file->message_type(14);
+  static const int UnpublishObjectClassAttributes_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnpublishObjectClassAttributes, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnpublishObjectClassAttributes, attributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnpublishObjectClassAttributes, objectinstancehandles_),
+  };
+  UnpublishObjectClassAttributes_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      UnpublishObjectClassAttributes_descriptor_,
+      UnpublishObjectClassAttributes::default_instance_,
+      UnpublishObjectClassAttributes_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnpublishObjectClassAttributes, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnpublishObjectClassAttributes, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(UnpublishObjectClassAttributes));
+  PublishInteractionClass_descriptor_ = file->message_type(15);
+  static const int PublishInteractionClass_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PublishInteractionClass, interactionclasshandle_),
+  };
+  PublishInteractionClass_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      PublishInteractionClass_descriptor_,
+      PublishInteractionClass::default_instance_,
+      PublishInteractionClass_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PublishInteractionClass, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PublishInteractionClass, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(PublishInteractionClass));
+  UnpublishInteractionClass_descriptor_ = file->message_type(16);
+  static const int UnpublishInteractionClass_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnpublishInteractionClass, interactionclasshandle_),
+  };
+  UnpublishInteractionClass_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      UnpublishInteractionClass_descriptor_,
+      UnpublishInteractionClass::default_instance_,
+      UnpublishInteractionClass_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnpublishInteractionClass, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnpublishInteractionClass, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(UnpublishInteractionClass));
+  SubscribeObjectClassAttributes_descriptor_ = file->message_type(17);
+  static const int SubscribeObjectClassAttributes_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeObjectClassAttributes, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeObjectClassAttributes, attributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeObjectClassAttributes, passive_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeObjectClassAttributes, updateratedesignator_),
+  };
+  SubscribeObjectClassAttributes_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      SubscribeObjectClassAttributes_descriptor_,
+      SubscribeObjectClassAttributes::default_instance_,
+      SubscribeObjectClassAttributes_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeObjectClassAttributes, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeObjectClassAttributes, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(SubscribeObjectClassAttributes));
+  UnsubscribeObjectClassAttributes_descriptor_ = file->message_type(18);
+  static const int UnsubscribeObjectClassAttributes_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeObjectClassAttributes, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeObjectClassAttributes, attributehandles_),
+  };
+  UnsubscribeObjectClassAttributes_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      UnsubscribeObjectClassAttributes_descriptor_,
+      UnsubscribeObjectClassAttributes::default_instance_,
+      UnsubscribeObjectClassAttributes_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeObjectClassAttributes, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeObjectClassAttributes, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(UnsubscribeObjectClassAttributes));
+  SubscribeInteractionClass_descriptor_ = file->message_type(19);
+  static const int SubscribeInteractionClass_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeInteractionClass, interactionclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeInteractionClass, passive_),
+  };
+  SubscribeInteractionClass_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      SubscribeInteractionClass_descriptor_,
+      SubscribeInteractionClass::default_instance_,
+      SubscribeInteractionClass_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeInteractionClass, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeInteractionClass, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(SubscribeInteractionClass));
+  UnsubscribeInteractionClass_descriptor_ = file->message_type(20);
+  static const int UnsubscribeInteractionClass_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeInteractionClass, interactionclasshandle_),
+  };
+  UnsubscribeInteractionClass_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      UnsubscribeInteractionClass_descriptor_,
+      UnsubscribeInteractionClass::default_instance_,
+      UnsubscribeInteractionClass_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeInteractionClass, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeInteractionClass, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(UnsubscribeInteractionClass));
+  ReserveObjectInstanceName_descriptor_ = file->message_type(21);
+  static const int ReserveObjectInstanceName_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReserveObjectInstanceName, objectinstancename_),
+  };
+  ReserveObjectInstanceName_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ReserveObjectInstanceName_descriptor_,
+      ReserveObjectInstanceName::default_instance_,
+      ReserveObjectInstanceName_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReserveObjectInstanceName, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReserveObjectInstanceName, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ReserveObjectInstanceName));
+  ReleaseObjectInstanceName_descriptor_ = file->message_type(22);
+  static const int ReleaseObjectInstanceName_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReleaseObjectInstanceName, objectinstancename_),
+  };
+  ReleaseObjectInstanceName_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ReleaseObjectInstanceName_descriptor_,
+      ReleaseObjectInstanceName::default_instance_,
+      ReleaseObjectInstanceName_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReleaseObjectInstanceName, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReleaseObjectInstanceName, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ReleaseObjectInstanceName));
+  ReserveMultipleObjectInstanceName_descriptor_ = file->message_type(23);
+  static const int ReserveMultipleObjectInstanceName_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReserveMultipleObjectInstanceName, objectinstancenames_),
+  };
+  ReserveMultipleObjectInstanceName_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ReserveMultipleObjectInstanceName_descriptor_,
+      ReserveMultipleObjectInstanceName::default_instance_,
+      ReserveMultipleObjectInstanceName_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReserveMultipleObjectInstanceName, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReserveMultipleObjectInstanceName, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ReserveMultipleObjectInstanceName));
+  ReleaseMultipleObjectInstanceName_descriptor_ = file->message_type(24);
+  static const int ReleaseMultipleObjectInstanceName_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReleaseMultipleObjectInstanceName, objectinstancenames_),
+  };
+  ReleaseMultipleObjectInstanceName_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ReleaseMultipleObjectInstanceName_descriptor_,
+      ReleaseMultipleObjectInstanceName::default_instance_,
+      ReleaseMultipleObjectInstanceName_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReleaseMultipleObjectInstanceName, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReleaseMultipleObjectInstanceName, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ReleaseMultipleObjectInstanceName));
+  AttributeRegionAssociation_descriptor_ = file->message_type(25);
+  static const int AttributeRegionAssociation_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeRegionAssociation, attributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeRegionAssociation, regionhandles_),
+  };
+  AttributeRegionAssociation_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AttributeRegionAssociation_descriptor_,
+      AttributeRegionAssociation::default_instance_,
+      AttributeRegionAssociation_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeRegionAssociation, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeRegionAssociation, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AttributeRegionAssociation));
+  RegisterObjectInstance_descriptor_ = file->message_type(26);
+  static const int RegisterObjectInstance_offsets_[5] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterObjectInstance, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterObjectInstance, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterObjectInstance, objectinstancename_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterObjectInstance, publishedattributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterObjectInstance, attributeregionassociations_),
+  };
+  RegisterObjectInstance_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RegisterObjectInstance_descriptor_,
+      RegisterObjectInstance::default_instance_,
+      RegisterObjectInstance_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterObjectInstance, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterObjectInstance, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RegisterObjectInstance));
+  RegisterObjectInstanceWithRegions_descriptor_ = file->message_type(27);
+  static const int RegisterObjectInstanceWithRegions_offsets_[5] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterObjectInstanceWithRegions, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterObjectInstanceWithRegions, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterObjectInstanceWithRegions, objectinstancename_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterObjectInstanceWithRegions, publishedattributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterObjectInstanceWithRegions, attributeregionassociations_),
+  };
+  RegisterObjectInstanceWithRegions_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RegisterObjectInstanceWithRegions_descriptor_,
+      RegisterObjectInstanceWithRegions::default_instance_,
+      RegisterObjectInstanceWithRegions_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterObjectInstanceWithRegions, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterObjectInstanceWithRegions, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RegisterObjectInstanceWithRegions));
+  UpdateAttributeValues_descriptor_ = file->message_type(28);
+  static const int UpdateAttributeValues_offsets_[7] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UpdateAttributeValues, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UpdateAttributeValues, attributevalues_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UpdateAttributeValues, tag_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UpdateAttributeValues, sentordertype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UpdateAttributeValues, transportationtypehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UpdateAttributeValues, time_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UpdateAttributeValues, messageretractionhandle_),
+  };
+  UpdateAttributeValues_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      UpdateAttributeValues_descriptor_,
+      UpdateAttributeValues::default_instance_,
+      UpdateAttributeValues_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UpdateAttributeValues, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UpdateAttributeValues, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(UpdateAttributeValues));
+  SendInteraction_descriptor_ = file->message_type(29);
+  static const int SendInteraction_offsets_[8] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SendInteraction, interactionclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SendInteraction, parametervalues_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SendInteraction, tag_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SendInteraction, sentordertype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SendInteraction, transportationtypehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SendInteraction, time_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SendInteraction, messageretractionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SendInteraction, sentregionhandles_),
+  };
+  SendInteraction_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      SendInteraction_descriptor_,
+      SendInteraction::default_instance_,
+      SendInteraction_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SendInteraction, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SendInteraction, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(SendInteraction));
+  DeleteObjectInstance_descriptor_ = file->message_type(30);
+  static const int DeleteObjectInstance_offsets_[5] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DeleteObjectInstance, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DeleteObjectInstance, tag_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DeleteObjectInstance, sentordertype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DeleteObjectInstance, time_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DeleteObjectInstance, messageretractionhandle_),
+  };
+  DeleteObjectInstance_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      DeleteObjectInstance_descriptor_,
+      DeleteObjectInstance::default_instance_,
+      DeleteObjectInstance_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DeleteObjectInstance, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DeleteObjectInstance, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(DeleteObjectInstance));
+  LocalDeleteObjectInstance_descriptor_ = file->message_type(31);
+  static const int LocalDeleteObjectInstance_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(LocalDeleteObjectInstance, objectinstancehandle_),
+  };
+  LocalDeleteObjectInstance_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      LocalDeleteObjectInstance_descriptor_,
+      LocalDeleteObjectInstance::default_instance_,
+      LocalDeleteObjectInstance_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(LocalDeleteObjectInstance, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(LocalDeleteObjectInstance, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(LocalDeleteObjectInstance));
+  RequestObjectInstanceAttributeValueUpdate_descriptor_ = file->message_type(32);
+  static const int RequestObjectInstanceAttributeValueUpdate_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectInstanceAttributeValueUpdate, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectInstanceAttributeValueUpdate, attributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectInstanceAttributeValueUpdate, tag_),
+  };
+  RequestObjectInstanceAttributeValueUpdate_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestObjectInstanceAttributeValueUpdate_descriptor_,
+      RequestObjectInstanceAttributeValueUpdate::default_instance_,
+      RequestObjectInstanceAttributeValueUpdate_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectInstanceAttributeValueUpdate, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectInstanceAttributeValueUpdate, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestObjectInstanceAttributeValueUpdate));
+  RequestObjectClassAttributeValueUpdate_descriptor_ = file->message_type(33);
+  static const int RequestObjectClassAttributeValueUpdate_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectClassAttributeValueUpdate, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectClassAttributeValueUpdate, attributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectClassAttributeValueUpdate, tag_),
+  };
+  RequestObjectClassAttributeValueUpdate_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestObjectClassAttributeValueUpdate_descriptor_,
+      RequestObjectClassAttributeValueUpdate::default_instance_,
+      RequestObjectClassAttributeValueUpdate_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectClassAttributeValueUpdate, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectClassAttributeValueUpdate, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestObjectClassAttributeValueUpdate));
+  RequestObjectClassAttributeValueUpdateWithRegions_descriptor_ = file->message_type(34);
+  static const int RequestObjectClassAttributeValueUpdateWithRegions_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectClassAttributeValueUpdateWithRegions, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectClassAttributeValueUpdateWithRegions, attributeregionassociations_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectClassAttributeValueUpdateWithRegions, tag_),
+  };
+  RequestObjectClassAttributeValueUpdateWithRegions_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RequestObjectClassAttributeValueUpdateWithRegions_descriptor_,
+      RequestObjectClassAttributeValueUpdateWithRegions::default_instance_,
+      RequestObjectClassAttributeValueUpdateWithRegions_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectClassAttributeValueUpdateWithRegions, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RequestObjectClassAttributeValueUpdateWithRegions, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RequestObjectClassAttributeValueUpdateWithRegions));
+  SetAutomaticResignDirective_descriptor_ = file->message_type(35);
+  static const int SetAutomaticResignDirective_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SetAutomaticResignDirective, resignaction_),
+  };
+  SetAutomaticResignDirective_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      SetAutomaticResignDirective_descriptor_,
+      SetAutomaticResignDirective::default_instance_,
+      SetAutomaticResignDirective_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SetAutomaticResignDirective, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SetAutomaticResignDirective, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(SetAutomaticResignDirective));
+  GetFederateHandle_descriptor_ = file->message_type(36);
+  static const int GetFederateHandle_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandle, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandle, federatename_),
+  };
+  GetFederateHandle_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      GetFederateHandle_descriptor_,
+      GetFederateHandle::default_instance_,
+      GetFederateHandle_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandle, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateHandle, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(GetFederateHandle));
+  GetFederateName_descriptor_ = file->message_type(37);
+  static const int GetFederateName_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateName, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateName, federatehandle_),
+  };
+  GetFederateName_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      GetFederateName_descriptor_,
+      GetFederateName::default_instance_,
+      GetFederateName_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateName, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetFederateName, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(GetFederateName));
+  GetUpdateRateValueForAttribute_descriptor_ = file->message_type(38);
+  static const int GetUpdateRateValueForAttribute_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttribute, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttribute, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttribute, attributehandle_),
+  };
+  GetUpdateRateValueForAttribute_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      GetUpdateRateValueForAttribute_descriptor_,
+      GetUpdateRateValueForAttribute::default_instance_,
+      GetUpdateRateValueForAttribute_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttribute, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetUpdateRateValueForAttribute, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(GetUpdateRateValueForAttribute));
+  QueryInteractionTransportationType_descriptor_ = file->message_type(39);
+  static const int QueryInteractionTransportationType_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryInteractionTransportationType, interactionclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryInteractionTransportationType, federatehandle_),
+  };
+  QueryInteractionTransportationType_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      QueryInteractionTransportationType_descriptor_,
+      QueryInteractionTransportationType::default_instance_,
+      QueryInteractionTransportationType_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryInteractionTransportationType, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryInteractionTransportationType, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(QueryInteractionTransportationType));
+  UnconditionalAttributeOwnershipDivestiture_descriptor_ = file->message_type(40);
+  static const int UnconditionalAttributeOwnershipDivestiture_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnconditionalAttributeOwnershipDivestiture, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnconditionalAttributeOwnershipDivestiture, attributehandles_),
+  };
+  UnconditionalAttributeOwnershipDivestiture_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      UnconditionalAttributeOwnershipDivestiture_descriptor_,
+      UnconditionalAttributeOwnershipDivestiture::default_instance_,
+      UnconditionalAttributeOwnershipDivestiture_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnconditionalAttributeOwnershipDivestiture, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnconditionalAttributeOwnershipDivestiture, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(UnconditionalAttributeOwnershipDivestiture));
+  NegotiatedAttributeOwnershipDivestiture_descriptor_ = file->message_type(41);
+  static const int NegotiatedAttributeOwnershipDivestiture_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(NegotiatedAttributeOwnershipDivestiture, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(NegotiatedAttributeOwnershipDivestiture, attributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(NegotiatedAttributeOwnershipDivestiture, tag_),
+  };
+  NegotiatedAttributeOwnershipDivestiture_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      NegotiatedAttributeOwnershipDivestiture_descriptor_,
+      NegotiatedAttributeOwnershipDivestiture::default_instance_,
+      NegotiatedAttributeOwnershipDivestiture_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(NegotiatedAttributeOwnershipDivestiture, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(NegotiatedAttributeOwnershipDivestiture, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(NegotiatedAttributeOwnershipDivestiture));
+  ConfirmDivestiture_descriptor_ = file->message_type(42);
+  static const int ConfirmDivestiture_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ConfirmDivestiture, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ConfirmDivestiture, attributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ConfirmDivestiture, tag_),
+  };
+  ConfirmDivestiture_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ConfirmDivestiture_descriptor_,
+      ConfirmDivestiture::default_instance_,
+      ConfirmDivestiture_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ConfirmDivestiture, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ConfirmDivestiture, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ConfirmDivestiture));
+  AttributeOwnershipAcquisition_descriptor_ = file->message_type(43);
+  static const int AttributeOwnershipAcquisition_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipAcquisition, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipAcquisition, attributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipAcquisition, tag_),
+  };
+  AttributeOwnershipAcquisition_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AttributeOwnershipAcquisition_descriptor_,
+      AttributeOwnershipAcquisition::default_instance_,
+      AttributeOwnershipAcquisition_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipAcquisition, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipAcquisition, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AttributeOwnershipAcquisition));
+  AttributeOwnershipAcquisitionIfAvailable_descriptor_ = file->message_type(44);
+  static const int AttributeOwnershipAcquisitionIfAvailable_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipAcquisitionIfAvailable, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipAcquisitionIfAvailable, attributehandles_),
+  };
+  AttributeOwnershipAcquisitionIfAvailable_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AttributeOwnershipAcquisitionIfAvailable_descriptor_,
+      AttributeOwnershipAcquisitionIfAvailable::default_instance_,
+      AttributeOwnershipAcquisitionIfAvailable_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipAcquisitionIfAvailable, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipAcquisitionIfAvailable, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AttributeOwnershipAcquisitionIfAvailable));
+  AttributeOwnershipDivestitureIfWanted_descriptor_ = file->message_type(45);
+  static const int AttributeOwnershipDivestitureIfWanted_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipDivestitureIfWanted, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipDivestitureIfWanted, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipDivestitureIfWanted, attributehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipDivestitureIfWanted, tag_),
+  };
+  AttributeOwnershipDivestitureIfWanted_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AttributeOwnershipDivestitureIfWanted_descriptor_,
+      AttributeOwnershipDivestitureIfWanted::default_instance_,
+      AttributeOwnershipDivestitureIfWanted_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipDivestitureIfWanted, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeOwnershipDivestitureIfWanted, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AttributeOwnershipDivestitureIfWanted));
+  CancelNegotiatedAttributeOwnershipDivestiture_descriptor_ = file->message_type(46);
+  static const int CancelNegotiatedAttributeOwnershipDivestiture_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CancelNegotiatedAttributeOwnershipDivestiture, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CancelNegotiatedAttributeOwnershipDivestiture, attributehandles_),
+  };
+  CancelNegotiatedAttributeOwnershipDivestiture_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      CancelNegotiatedAttributeOwnershipDivestiture_descriptor_,
+      CancelNegotiatedAttributeOwnershipDivestiture::default_instance_,
+      CancelNegotiatedAttributeOwnershipDivestiture_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CancelNegotiatedAttributeOwnershipDivestiture, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CancelNegotiatedAttributeOwnershipDivestiture, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(CancelNegotiatedAttributeOwnershipDivestiture));
+  CancelAttributeOwnershipAcquisition_descriptor_ = file->message_type(47);
+  static const int CancelAttributeOwnershipAcquisition_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CancelAttributeOwnershipAcquisition, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CancelAttributeOwnershipAcquisition, attributehandles_),
+  };
+  CancelAttributeOwnershipAcquisition_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      CancelAttributeOwnershipAcquisition_descriptor_,
+      CancelAttributeOwnershipAcquisition::default_instance_,
+      CancelAttributeOwnershipAcquisition_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CancelAttributeOwnershipAcquisition, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CancelAttributeOwnershipAcquisition, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(CancelAttributeOwnershipAcquisition));
+  QueryAttributeOwnership_descriptor_ = file->message_type(48);
+  static const int QueryAttributeOwnership_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryAttributeOwnership, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryAttributeOwnership, attributehandle_),
+  };
+  QueryAttributeOwnership_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      QueryAttributeOwnership_descriptor_,
+      QueryAttributeOwnership::default_instance_,
+      QueryAttributeOwnership_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryAttributeOwnership, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryAttributeOwnership, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(QueryAttributeOwnership));
+  EnableTimeRegulation_descriptor_ = file->message_type(49);
+  static const int EnableTimeRegulation_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(EnableTimeRegulation, lookahead_),
+  };
+  EnableTimeRegulation_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      EnableTimeRegulation_descriptor_,
+      EnableTimeRegulation::default_instance_,
+      EnableTimeRegulation_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(EnableTimeRegulation, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(EnableTimeRegulation, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(EnableTimeRegulation));
+  DisableTimeRegulation_descriptor_ = file->message_type(50);
+  static const int DisableTimeRegulation_offsets_[1] = {
+  };
+  DisableTimeRegulation_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      DisableTimeRegulation_descriptor_,
+      DisableTimeRegulation::default_instance_,
+      DisableTimeRegulation_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DisableTimeRegulation, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DisableTimeRegulation, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(DisableTimeRegulation));
+  EnableTimeConstrained_descriptor_ = file->message_type(51);
+  static const int EnableTimeConstrained_offsets_[1] = {
+  };
+  EnableTimeConstrained_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      EnableTimeConstrained_descriptor_,
+      EnableTimeConstrained::default_instance_,
+      EnableTimeConstrained_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(EnableTimeConstrained, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(EnableTimeConstrained, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(EnableTimeConstrained));
+  DisableTimeConstrained_descriptor_ = file->message_type(52);
+  static const int DisableTimeConstrained_offsets_[1] = {
+  };
+  DisableTimeConstrained_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      DisableTimeConstrained_descriptor_,
+      DisableTimeConstrained::default_instance_,
+      DisableTimeConstrained_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DisableTimeConstrained, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DisableTimeConstrained, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(DisableTimeConstrained));
+  TimeAdvanceRequest_descriptor_ = file->message_type(53);
+  static const int TimeAdvanceRequest_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeAdvanceRequest, time_),
+  };
+  TimeAdvanceRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      TimeAdvanceRequest_descriptor_,
+      TimeAdvanceRequest::default_instance_,
+      TimeAdvanceRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeAdvanceRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeAdvanceRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(TimeAdvanceRequest));
+  TimeAdvanceRequestAvailable_descriptor_ = file->message_type(54);
+  static const int TimeAdvanceRequestAvailable_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeAdvanceRequestAvailable, time_),
+  };
+  TimeAdvanceRequestAvailable_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      TimeAdvanceRequestAvailable_descriptor_,
+      TimeAdvanceRequestAvailable::default_instance_,
+      TimeAdvanceRequestAvailable_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeAdvanceRequestAvailable, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeAdvanceRequestAvailable, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(TimeAdvanceRequestAvailable));
+  NextMessageRequest_descriptor_ = file->message_type(55);
+  static const int NextMessageRequest_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(NextMessageRequest, time_),
+  };
+  NextMessageRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      NextMessageRequest_descriptor_,
+      NextMessageRequest::default_instance_,
+      NextMessageRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(NextMessageRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(NextMessageRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(NextMessageRequest));
+  NextMessageRequestAvailable_descriptor_ = file->message_type(56);
+  static const int NextMessageRequestAvailable_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(NextMessageRequestAvailable, time_),
+  };
+  NextMessageRequestAvailable_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      NextMessageRequestAvailable_descriptor_,
+      NextMessageRequestAvailable::default_instance_,
+      NextMessageRequestAvailable_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(NextMessageRequestAvailable, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(NextMessageRequestAvailable, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(NextMessageRequestAvailable));
+  FlushQueueRequest_descriptor_ = file->message_type(57);
+  static const int FlushQueueRequest_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FlushQueueRequest, time_),
+  };
+  FlushQueueRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FlushQueueRequest_descriptor_,
+      FlushQueueRequest::default_instance_,
+      FlushQueueRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FlushQueueRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FlushQueueRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FlushQueueRequest));
+  QueryGALT_descriptor_ = file->message_type(58);
+  static const int QueryGALT_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryGALT, requestid_),
+  };
+  QueryGALT_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      QueryGALT_descriptor_,
+      QueryGALT::default_instance_,
+      QueryGALT_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryGALT, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryGALT, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(QueryGALT));
+  QueryLITS_descriptor_ = file->message_type(59);
+  static const int QueryLITS_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryLITS, requestid_),
+  };
+  QueryLITS_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      QueryLITS_descriptor_,
+      QueryLITS::default_instance_,
+      QueryLITS_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryLITS, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryLITS, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(QueryLITS));
+  ModifyLookahead_descriptor_ = file->message_type(60);
+  static const int ModifyLookahead_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ModifyLookahead, lookahead_),
+  };
+  ModifyLookahead_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ModifyLookahead_descriptor_,
+      ModifyLookahead::default_instance_,
+      ModifyLookahead_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ModifyLookahead, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ModifyLookahead, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ModifyLookahead));
+  Retract_descriptor_ = file->message_type(61);
+  static const int Retract_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Retract, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Retract, messageretractionhandle_),
+  };
+  Retract_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      Retract_descriptor_,
+      Retract::default_instance_,
+      Retract_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Retract, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Retract, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(Retract));
+  CreateRegion_descriptor_ = file->message_type(62);
+  static const int CreateRegion_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateRegion, regionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateRegion, dimensionhandles_),
+  };
+  CreateRegion_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      CreateRegion_descriptor_,
+      CreateRegion::default_instance_,
+      CreateRegion_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateRegion, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateRegion, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(CreateRegion));
+  CommitRegionModifications_descriptor_ = file->message_type(63);
+  static const int CommitRegionModifications_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CommitRegionModifications, regionmodifications_),
+  };
+  CommitRegionModifications_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      CommitRegionModifications_descriptor_,
+      CommitRegionModifications::default_instance_,
+      CommitRegionModifications_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CommitRegionModifications, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CommitRegionModifications, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(CommitRegionModifications));
+  CommitRegionModifications_RegionModification_descriptor_ = CommitRegionModifications_descriptor_->nested_type(0);
+  static const int CommitRegionModifications_RegionModification_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CommitRegionModifications_RegionModification, regionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CommitRegionModifications_RegionModification, dimensionrangebounds_),
+  };
+  CommitRegionModifications_RegionModification_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      CommitRegionModifications_RegionModification_descriptor_,
+      CommitRegionModifications_RegionModification::default_instance_,
+      CommitRegionModifications_RegionModification_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CommitRegionModifications_RegionModification, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CommitRegionModifications_RegionModification, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(CommitRegionModifications_RegionModification));
+  DeleteRegion_descriptor_ = file->message_type(64);
+  static const int DeleteRegion_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DeleteRegion, regionhandle_),
+  };
+  DeleteRegion_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      DeleteRegion_descriptor_,
+      DeleteRegion::default_instance_,
+      DeleteRegion_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DeleteRegion, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DeleteRegion, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(DeleteRegion));
+  AssociateRegionsForUpdates_descriptor_ = file->message_type(65);
+  static const int AssociateRegionsForUpdates_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AssociateRegionsForUpdates, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AssociateRegionsForUpdates, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AssociateRegionsForUpdates, attributeregionassociations_),
+  };
+  AssociateRegionsForUpdates_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AssociateRegionsForUpdates_descriptor_,
+      AssociateRegionsForUpdates::default_instance_,
+      AssociateRegionsForUpdates_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AssociateRegionsForUpdates, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AssociateRegionsForUpdates, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AssociateRegionsForUpdates));
+  UnassociateRegionsForUpdates_descriptor_ = file->message_type(66);
+  static const int UnassociateRegionsForUpdates_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnassociateRegionsForUpdates, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnassociateRegionsForUpdates, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnassociateRegionsForUpdates, attributeregionassociations_),
+  };
+  UnassociateRegionsForUpdates_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      UnassociateRegionsForUpdates_descriptor_,
+      UnassociateRegionsForUpdates::default_instance_,
+      UnassociateRegionsForUpdates_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnassociateRegionsForUpdates, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnassociateRegionsForUpdates, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(UnassociateRegionsForUpdates));
+  SubscribeObjectClassAttributesWithRegions_descriptor_ = file->message_type(67);
+  static const int SubscribeObjectClassAttributesWithRegions_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeObjectClassAttributesWithRegions, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeObjectClassAttributesWithRegions, attributeregionassociations_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeObjectClassAttributesWithRegions, passive_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeObjectClassAttributesWithRegions, updateratedesignator_),
+  };
+  SubscribeObjectClassAttributesWithRegions_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      SubscribeObjectClassAttributesWithRegions_descriptor_,
+      SubscribeObjectClassAttributesWithRegions::default_instance_,
+      SubscribeObjectClassAttributesWithRegions_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeObjectClassAttributesWithRegions, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeObjectClassAttributesWithRegions, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(SubscribeObjectClassAttributesWithRegions));
+  UnsubscribeObjectClassAttributesWithRegions_descriptor_ = file->message_type(68);
+  static const int UnsubscribeObjectClassAttributesWithRegions_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeObjectClassAttributesWithRegions, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeObjectClassAttributesWithRegions, attributeregionassociations_),
+  };
+  UnsubscribeObjectClassAttributesWithRegions_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      UnsubscribeObjectClassAttributesWithRegions_descriptor_,
+      UnsubscribeObjectClassAttributesWithRegions::default_instance_,
+      UnsubscribeObjectClassAttributesWithRegions_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeObjectClassAttributesWithRegions, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeObjectClassAttributesWithRegions, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(UnsubscribeObjectClassAttributesWithRegions));
+  SubscribeInteractionClassWithRegions_descriptor_ = file->message_type(69);
+  static const int SubscribeInteractionClassWithRegions_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeInteractionClassWithRegions, interactionclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeInteractionClassWithRegions, passive_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeInteractionClassWithRegions, regionhandles_),
+  };
+  SubscribeInteractionClassWithRegions_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      SubscribeInteractionClassWithRegions_descriptor_,
+      SubscribeInteractionClassWithRegions::default_instance_,
+      SubscribeInteractionClassWithRegions_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeInteractionClassWithRegions, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscribeInteractionClassWithRegions, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(SubscribeInteractionClassWithRegions));
+  UnsubscribeInteractionClassWithRegions_descriptor_ = file->message_type(70);
+  static const int UnsubscribeInteractionClassWithRegions_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeInteractionClassWithRegions, interactionclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeInteractionClassWithRegions, regionhandles_),
+  };
+  UnsubscribeInteractionClassWithRegions_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      UnsubscribeInteractionClassWithRegions_descriptor_,
+      UnsubscribeInteractionClassWithRegions::default_instance_,
+      UnsubscribeInteractionClassWithRegions_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeInteractionClassWithRegions, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UnsubscribeInteractionClassWithRegions, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(UnsubscribeInteractionClassWithRegions));
+  QueryFederationSaveStatus_descriptor_ = file->message_type(71);
+  static const int QueryFederationSaveStatus_offsets_[1] = {
+  };
+  QueryFederationSaveStatus_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      QueryFederationSaveStatus_descriptor_,
+      QueryFederationSaveStatus::default_instance_,
+      QueryFederationSaveStatus_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryFederationSaveStatus, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryFederationSaveStatus, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(QueryFederationSaveStatus));
+  QueryFederationRestoreStatus_descriptor_ = file->message_type(72);
+  static const int QueryFederationRestoreStatus_offsets_[1] = {
+  };
+  QueryFederationRestoreStatus_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      QueryFederationRestoreStatus_descriptor_,
+      QueryFederationRestoreStatus::default_instance_,
+      QueryFederationRestoreStatus_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryFederationRestoreStatus, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryFederationRestoreStatus, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(QueryFederationRestoreStatus));
+}
+
+namespace {
+
+GOOGLE_PROTOBUF_DECLARE_ONCE(protobuf_AssignDescriptors_once_);
+inline void protobuf_AssignDescriptorsOnce() {
+  ::google::protobuf::GoogleOnceInit(&protobuf_AssignDescriptors_once_,
+                 &protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto);
+}
+
+void protobuf_RegisterTypes(const ::std::string&) {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ResignFederationExecution_descriptor_, &ResignFederationExecution::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RegisterFederationSynchronizationPoint_descriptor_, &RegisterFederationSynchronizationPoint::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    SynchronizationPointAchieved_descriptor_, &SynchronizationPointAchieved::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestFederationSave_descriptor_, &RequestFederationSave::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AbortFederationSave_descriptor_, &AbortFederationSave::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateSaveBegun_descriptor_, &FederateSaveBegun::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateSaveComplete_descriptor_, &FederateSaveComplete::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateSaveNotComplete_descriptor_, &FederateSaveNotComplete::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestFederationRestore_descriptor_, &RequestFederationRestore::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AbortFederationRestore_descriptor_, &AbortFederationRestore::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateRestoreComplete_descriptor_, &FederateRestoreComplete::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateRestoreNotComplete_descriptor_, &FederateRestoreNotComplete::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    PublishObjectClassAttributes_descriptor_, &PublishObjectClassAttributes::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    UnpublishObjectClass_descriptor_, &UnpublishObjectClass::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    UnpublishObjectClassAttributes_descriptor_, &UnpublishObjectClassAttributes::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    PublishInteractionClass_descriptor_, &PublishInteractionClass::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    UnpublishInteractionClass_descriptor_, &UnpublishInteractionClass::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    SubscribeObjectClassAttributes_descriptor_, &SubscribeObjectClassAttributes::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    UnsubscribeObjectClassAttributes_descriptor_, &UnsubscribeObjectClassAttributes::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    SubscribeInteractionClass_descriptor_, &SubscribeInteractionClass::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    UnsubscribeInteractionClass_descriptor_, &UnsubscribeInteractionClass::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ReserveObjectInstanceName_descriptor_, &ReserveObjectInstanceName::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ReleaseObjectInstanceName_descriptor_, &ReleaseObjectInstanceName::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ReserveMultipleObjectInstanceName_descriptor_, &ReserveMultipleObjectInstanceName::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ReleaseMultipleObjectInstanceName_descriptor_, &ReleaseMultipleObjectInstanceName::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AttributeRegionAssociation_descriptor_, &AttributeRegionAssociation::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RegisterObjectInstance_descriptor_, &RegisterObjectInstance::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RegisterObjectInstanceWithRegions_descriptor_, &RegisterObjectInstanceWithRegions::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    UpdateAttributeValues_descriptor_, &UpdateAttributeValues::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    SendInteraction_descriptor_, &SendInteraction::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    DeleteObjectInstance_descriptor_, &DeleteObjectInstance::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    LocalDeleteObjectInstance_descriptor_, &LocalDeleteObjectInstance::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestObjectInstanceAttributeValueUpdate_descriptor_, &RequestObjectInstanceAttributeValueUpdate::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestObjectClassAttributeValueUpdate_descriptor_, &RequestObjectClassAttributeValueUpdate::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RequestObjectClassAttributeValueUpdateWithRegions_descriptor_, &RequestObjectClassAttributeValueUpdateWithRegions::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    SetAutomaticResignDirective_descriptor_, &SetAutomaticResignDirective::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    GetFederateHandle_descriptor_, &GetFederateHandle::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    GetFederateName_descriptor_, &GetFederateName::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    GetUpdateRateValueForAttribute_descriptor_, &GetUpdateRateValueForAttribute::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    QueryInteractionTransportationType_descriptor_, &QueryInteractionTransportationType::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    UnconditionalAttributeOwnershipDivestiture_descriptor_, &UnconditionalAttributeOwnershipDivestiture::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    NegotiatedAttributeOwnershipDivestiture_descriptor_, &NegotiatedAttributeOwnershipDivestiture::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ConfirmDivestiture_descriptor_, &ConfirmDivestiture::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AttributeOwnershipAcquisition_descriptor_, &AttributeOwnershipAcquisition::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AttributeOwnershipAcquisitionIfAvailable_descriptor_, &AttributeOwnershipAcquisitionIfAvailable::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AttributeOwnershipDivestitureIfWanted_descriptor_, &AttributeOwnershipDivestitureIfWanted::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    CancelNegotiatedAttributeOwnershipDivestiture_descriptor_, &CancelNegotiatedAttributeOwnershipDivestiture::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    CancelAttributeOwnershipAcquisition_descriptor_, &CancelAttributeOwnershipAcquisition::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    QueryAttributeOwnership_descriptor_, &QueryAttributeOwnership::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    EnableTimeRegulation_descriptor_, &EnableTimeRegulation::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    DisableTimeRegulation_descriptor_, &DisableTimeRegulation::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    EnableTimeConstrained_descriptor_, &EnableTimeConstrained::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    DisableTimeConstrained_descriptor_, &DisableTimeConstrained::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    TimeAdvanceRequest_descriptor_, &TimeAdvanceRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    TimeAdvanceRequestAvailable_descriptor_, &TimeAdvanceRequestAvailable::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    NextMessageRequest_descriptor_, &NextMessageRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    NextMessageRequestAvailable_descriptor_, &NextMessageRequestAvailable::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FlushQueueRequest_descriptor_, &FlushQueueRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    QueryGALT_descriptor_, &QueryGALT::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    QueryLITS_descriptor_, &QueryLITS::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ModifyLookahead_descriptor_, &ModifyLookahead::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    Retract_descriptor_, &Retract::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    CreateRegion_descriptor_, &CreateRegion::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    CommitRegionModifications_descriptor_, &CommitRegionModifications::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    CommitRegionModifications_RegionModification_descriptor_, &CommitRegionModifications_RegionModification::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    DeleteRegion_descriptor_, &DeleteRegion::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AssociateRegionsForUpdates_descriptor_, &AssociateRegionsForUpdates::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    UnassociateRegionsForUpdates_descriptor_, &UnassociateRegionsForUpdates::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    SubscribeObjectClassAttributesWithRegions_descriptor_, &SubscribeObjectClassAttributesWithRegions::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    UnsubscribeObjectClassAttributesWithRegions_descriptor_, &UnsubscribeObjectClassAttributesWithRegions::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    SubscribeInteractionClassWithRegions_descriptor_, &SubscribeInteractionClassWithRegions::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    UnsubscribeInteractionClassWithRegions_descriptor_, &UnsubscribeInteractionClassWithRegions::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    QueryFederationSaveStatus_descriptor_, &QueryFederationSaveStatus::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    QueryFederationRestoreStatus_descriptor_, &QueryFederationRestoreStatus::default_instance());
+}
+
+}  // namespace
+
+void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto() {
+  delete ResignFederationExecution::default_instance_;
+  delete ResignFederationExecution_reflection_;
+  delete RegisterFederationSynchronizationPoint::default_instance_;
+  delete RegisterFederationSynchronizationPoint_reflection_;
+  delete SynchronizationPointAchieved::default_instance_;
+  delete SynchronizationPointAchieved_reflection_;
+  delete RequestFederationSave::default_instance_;
+  delete RequestFederationSave_reflection_;
+  delete AbortFederationSave::default_instance_;
+  delete AbortFederationSave_reflection_;
+  delete FederateSaveBegun::default_instance_;
+  delete FederateSaveBegun_reflection_;
+  delete FederateSaveComplete::default_instance_;
+  delete FederateSaveComplete_reflection_;
+  delete FederateSaveNotComplete::default_instance_;
+  delete FederateSaveNotComplete_reflection_;
+  delete RequestFederationRestore::default_instance_;
+  delete RequestFederationRestore_reflection_;
+  delete AbortFederationRestore::default_instance_;
+  delete AbortFederationRestore_reflection_;
+  delete FederateRestoreComplete::default_instance_;
+  delete FederateRestoreComplete_reflection_;
+  delete FederateRestoreNotComplete::default_instance_;
+  delete FederateRestoreNotComplete_reflection_;
+  delete PublishObjectClassAttributes::default_instance_;
+  delete PublishObjectClassAttributes_reflection_;
+  delete UnpublishObjectClass::default_instance_;
+  delete UnpublishObjectClass_reflection_;
+  delete UnpublishObjectClassAttributes::default_instance_;
+  delete UnpublishObjectClassAttributes_reflection_;
+  delete PublishInteractionClass::default_instance_;
+  delete PublishInteractionClass_reflection_;
+  delete UnpublishInteractionClass::default_instance_;
+  delete UnpublishInteractionClass_reflection_;
+  delete SubscribeObjectClassAttributes::default_instance_;
+  delete SubscribeObjectClassAttributes_reflection_;
+  delete UnsubscribeObjectClassAttributes::default_instance_;
+  delete UnsubscribeObjectClassAttributes_reflection_;
+  delete SubscribeInteractionClass::default_instance_;
+  delete SubscribeInteractionClass_reflection_;
+  delete UnsubscribeInteractionClass::default_instance_;
+  delete UnsubscribeInteractionClass_reflection_;
+  delete ReserveObjectInstanceName::default_instance_;
+  delete ReserveObjectInstanceName_reflection_;
+  delete ReleaseObjectInstanceName::default_instance_;
+  delete ReleaseObjectInstanceName_reflection_;
+  delete ReserveMultipleObjectInstanceName::default_instance_;
+  delete ReserveMultipleObjectInstanceName_reflection_;
+  delete ReleaseMultipleObjectInstanceName::default_instance_;
+  delete ReleaseMultipleObjectInstanceName_reflection_;
+  delete AttributeRegionAssociation::default_instance_;
+  delete AttributeRegionAssociation_reflection_;
+  delete RegisterObjectInstance::default_instance_;
+  delete RegisterObjectInstance_reflection_;
+  delete RegisterObjectInstanceWithRegions::default_instance_;
+  delete RegisterObjectInstanceWithRegions_reflection_;
+  delete UpdateAttributeValues::default_instance_;
+  delete UpdateAttributeValues_reflection_;
+  delete SendInteraction::default_instance_;
+  delete SendInteraction_reflection_;
+  delete DeleteObjectInstance::default_instance_;
+  delete DeleteObjectInstance_reflection_;
+  delete LocalDeleteObjectInstance::default_instance_;
+  delete LocalDeleteObjectInstance_reflection_;
+  delete RequestObjectInstanceAttributeValueUpdate::default_instance_;
+  delete RequestObjectInstanceAttributeValueUpdate_reflection_;
+  delete RequestObjectClassAttributeValueUpdate::default_instance_;
+  delete RequestObjectClassAttributeValueUpdate_reflection_;
+  delete RequestObjectClassAttributeValueUpdateWithRegions::default_instance_;
+  delete RequestObjectClassAttributeValueUpdateWithRegions_reflection_;
+  delete SetAutomaticResignDirective::default_instance_;
+  delete SetAutomaticResignDirective_reflection_;
+  delete GetFederateHandle::default_instance_;
+  delete GetFederateHandle_reflection_;
+  delete GetFederateName::default_instance_;
+  delete GetFederateName_reflection_;
+  delete GetUpdateRateValueForAttribute::default_instance_;
+  delete GetUpdateRateValueForAttribute_reflection_;
+  delete QueryInteractionTransportationType::default_instance_;
+  delete QueryInteractionTransportationType_reflection_;
+  delete UnconditionalAttributeOwnershipDivestiture::default_instance_;
+  delete UnconditionalAttributeOwnershipDivestiture_reflection_;
+  delete NegotiatedAttributeOwnershipDivestiture::default_instance_;
+  delete NegotiatedAttributeOwnershipDivestiture_reflection_;
+  delete ConfirmDivestiture::default_instance_;
+  delete ConfirmDivestiture_reflection_;
+  delete AttributeOwnershipAcquisition::default_instance_;
+  delete AttributeOwnershipAcquisition_reflection_;
+  delete AttributeOwnershipAcquisitionIfAvailable::default_instance_;
+  delete AttributeOwnershipAcquisitionIfAvailable_reflection_;
+  delete AttributeOwnershipDivestitureIfWanted::default_instance_;
+  delete AttributeOwnershipDivestitureIfWanted_reflection_;
+  delete CancelNegotiatedAttributeOwnershipDivestiture::default_instance_;
+  delete CancelNegotiatedAttributeOwnershipDivestiture_reflection_;
+  delete CancelAttributeOwnershipAcquisition::default_instance_;
+  delete CancelAttributeOwnershipAcquisition_reflection_;
+  delete QueryAttributeOwnership::default_instance_;
+  delete QueryAttributeOwnership_reflection_;
+  delete EnableTimeRegulation::default_instance_;
+  delete EnableTimeRegulation_reflection_;
+  delete DisableTimeRegulation::default_instance_;
+  delete DisableTimeRegulation_reflection_;
+  delete EnableTimeConstrained::default_instance_;
+  delete EnableTimeConstrained_reflection_;
+  delete DisableTimeConstrained::default_instance_;
+  delete DisableTimeConstrained_reflection_;
+  delete TimeAdvanceRequest::default_instance_;
+  delete TimeAdvanceRequest_reflection_;
+  delete TimeAdvanceRequestAvailable::default_instance_;
+  delete TimeAdvanceRequestAvailable_reflection_;
+  delete NextMessageRequest::default_instance_;
+  delete NextMessageRequest_reflection_;
+  delete NextMessageRequestAvailable::default_instance_;
+  delete NextMessageRequestAvailable_reflection_;
+  delete FlushQueueRequest::default_instance_;
+  delete FlushQueueRequest_reflection_;
+  delete QueryGALT::default_instance_;
+  delete QueryGALT_reflection_;
+  delete QueryLITS::default_instance_;
+  delete QueryLITS_reflection_;
+  delete ModifyLookahead::default_instance_;
+  delete ModifyLookahead_reflection_;
+  delete Retract::default_instance_;
+  delete Retract_reflection_;
+  delete CreateRegion::default_instance_;
+  delete CreateRegion_reflection_;
+  delete CommitRegionModifications::default_instance_;
+  delete CommitRegionModifications_reflection_;
+  delete CommitRegionModifications_RegionModification::default_instance_;
+  delete CommitRegionModifications_RegionModification_reflection_;
+  delete DeleteRegion::default_instance_;
+  delete DeleteRegion_reflection_;
+  delete AssociateRegionsForUpdates::default_instance_;
+  delete AssociateRegionsForUpdates_reflection_;
+  delete UnassociateRegionsForUpdates::default_instance_;
+  delete UnassociateRegionsForUpdates_reflection_;
+  delete SubscribeObjectClassAttributesWithRegions::default_instance_;
+  delete SubscribeObjectClassAttributesWithRegions_reflection_;
+  delete UnsubscribeObjectClassAttributesWithRegions::default_instance_;
+  delete UnsubscribeObjectClassAttributesWithRegions_reflection_;
+  delete SubscribeInteractionClassWithRegions::default_instance_;
+  delete SubscribeInteractionClassWithRegions_reflection_;
+  delete UnsubscribeInteractionClassWithRegions::default_instance_;
+  delete UnsubscribeInteractionClassWithRegions_reflection_;
+  delete QueryFederationSaveStatus::default_instance_;
+  delete QueryFederationSaveStatus_reflection_;
+  delete QueryFederationRestoreStatus::default_instance_;
+  delete QueryFederationRestoreStatus_reflection_;
+}
+
+void protobuf_AddDesc_FederationExecutionMessageProtos_2eproto() {
+  static bool already_here = false;
+  if (already_here) return;
+  already_here = true;
+  GOOGLE_PROTOBUF_VERIFY_VERSION;
+
+  ::ohla::rti::proto::protobuf_AddDesc_OHLAProtos_2eproto();
+  ::ohla::rti::messages::proto::protobuf_AddDesc_MessageProtos_2eproto();
+  ::google::protobuf::DescriptorPool::InternalAddGeneratedFile(
+    "\n&FederationExecutionMessageProtos.proto"
+    "\022\027ohla.rti.messages.proto\032\020OHLAProtos.pr"
+    "oto\032\023MessageProtos.proto\"O\n\031ResignFedera"
+    "tionExecution\0222\n\014resignAction\030\001 \002(\0162\034.oh"
+    "la.rti.proto.ResignAction\"]\n&RegisterFed"
+    "erationSynchronizationPoint\022\r\n\005label\030\001 \002"
+    "(\t\022\013\n\003tag\030\002 \001(\014\022\027\n\017federateHandles\030\003 \003(\r"
+    "\"A\n\034SynchronizationPointAchieved\022\r\n\005labe"
+    "l\030\001 \002(\t\022\022\n\nsuccessful\030\002 \002(\010\"G\n\025RequestFe"
+    "derationSave\022\021\n\trequestId\030\001 \002(\004\022\r\n\005label"
+    "\030\002 \002(\t\022\014\n\004time\030\003 \001(\014\"(\n\023AbortFederationS"
+    "ave\022\021\n\trequestId\030\001 \002(\004\"\023\n\021FederateSaveBe"
+    "gun\"\026\n\024FederateSaveComplete\"\031\n\027FederateS"
+    "aveNotComplete\"<\n\030RequestFederationResto"
+    "re\022\021\n\trequestId\030\001 \002(\004\022\r\n\005label\030\002 \002(\t\"+\n\026"
+    "AbortFederationRestore\022\021\n\trequestId\030\001 \002("
+    "\004\"\031\n\027FederateRestoreComplete\"\034\n\032Federate"
+    "RestoreNotComplete\"S\n\034PublishObjectClass"
+    "Attributes\022\031\n\021objectClassHandle\030\001 \002(\r\022\030\n"
+    "\020attributeHandles\030\002 \003(\r\"v\n\024UnpublishObje"
+    "ctClass\022\031\n\021objectClassHandle\030\001 \002(\r\022C\n\025ob"
+    "jectInstanceHandles\030\002 \003(\0132$.ohla.rti.pro"
+    "to.ObjectInstanceHandle\"\232\001\n\036UnpublishObj"
+    "ectClassAttributes\022\031\n\021objectClassHandle\030"
+    "\001 \002(\r\022\030\n\020attributeHandles\030\002 \003(\r\022C\n\025objec"
+    "tInstanceHandles\030\003 \003(\0132$.ohla.rti.proto."
+    "ObjectInstanceHandle\"9\n\027PublishInteracti"
+    "onClass\022\036\n\026interactionClassHandle\030\001 \002(\r\""
+    ";\n\031UnpublishInteractionClass\022\036\n\026interact"
+    "ionClassHandle\030\001 \002(\r\"\204\001\n\036SubscribeObject"
+    "ClassAttributes\022\031\n\021objectClassHandle\030\001 \002"
+    "(\r\022\030\n\020attributeHandles\030\002 \003(\r\022\017\n\007passive\030"
+    "\003 \002(\010\022\034\n\024updateRateDesignator\030\004 \001(\t\"W\n U"
+    "nsubscribeObjectClassAttributes\022\031\n\021objec"
+    "tClassHandle\030\001 \002(\r\022\030\n\020attributeHandles\030\002"
+    " \003(\r\"L\n\031SubscribeInteractionClass\022\036\n\026int"
+    "eractionClassHandle\030\001 \002(\r\022\017\n\007passive\030\002 \002"
+    "(\010\"=\n\033UnsubscribeInteractionClass\022\036\n\026int"
+    "eractionClassHandle\030\001 \002(\r\"7\n\031ReserveObje"
+    "ctInstanceName\022\032\n\022objectInstanceName\030\001 \002"
+    "(\t\"7\n\031ReleaseObjectInstanceName\022\032\n\022objec"
+    "tInstanceName\030\001 \002(\t\"@\n!ReserveMultipleOb"
+    "jectInstanceName\022\033\n\023objectInstanceNames\030"
+    "\001 \003(\t\"@\n!ReleaseMultipleObjectInstanceNa"
+    "me\022\033\n\023objectInstanceNames\030\001 \003(\t\"k\n\032Attri"
+    "buteRegionAssociation\022\030\n\020attributeHandle"
+    "s\030\001 \003(\r\0223\n\rregionHandles\030\002 \003(\0132\034.ohla.rt"
+    "i.proto.RegionHandle\"\220\002\n\026RegisterObjectI"
+    "nstance\022B\n\024objectInstanceHandle\030\001 \002(\0132$."
+    "ohla.rti.proto.ObjectInstanceHandle\022\031\n\021o"
+    "bjectClassHandle\030\002 \002(\r\022\032\n\022objectInstance"
+    "Name\030\003 \002(\t\022!\n\031publishedAttributeHandles\030"
+    "\004 \003(\r\022X\n\033attributeRegionAssociations\030\005 \003"
+    "(\01323.ohla.rti.messages.proto.AttributeRe"
+    "gionAssociation\"\233\002\n!RegisterObjectInstan"
+    "ceWithRegions\022B\n\024objectInstanceHandle\030\001 "
+    "\002(\0132$.ohla.rti.proto.ObjectInstanceHandl"
+    "e\022\031\n\021objectClassHandle\030\002 \002(\r\022\032\n\022objectIn"
+    "stanceName\030\003 \001(\t\022!\n\031publishedAttributeHa"
+    "ndles\030\004 \003(\r\022X\n\033attributeRegionAssociatio"
+    "ns\030\005 \003(\01323.ohla.rti.messages.proto.Attri"
+    "buteRegionAssociation\"\337\002\n\025UpdateAttribut"
+    "eValues\022B\n\024objectInstanceHandle\030\001 \002(\0132$."
+    "ohla.rti.proto.ObjectInstanceHandle\022@\n\017a"
+    "ttributeValues\030\002 \003(\0132\'.ohla.rti.messages"
+    ".proto.AttributeValue\022\013\n\003tag\030\003 \001(\014\0229\n\rse"
+    "ntOrderType\030\004 \001(\0162\031.ohla.rti.proto.Order"
+    "Type:\007RECEIVE\022 \n\030transportationTypeHandl"
+    "e\030\005 \002(\r\022\014\n\004time\030\006 \001(\014\022H\n\027messageRetracti"
+    "onHandle\030\007 \001(\0132\'.ohla.rti.proto.MessageR"
+    "etractionHandle\"\356\002\n\017SendInteraction\022\036\n\026i"
+    "nteractionClassHandle\030\001 \002(\r\022@\n\017parameter"
+    "Values\030\002 \003(\0132\'.ohla.rti.messages.proto.P"
+    "arameterValue\022\013\n\003tag\030\003 \001(\014\0229\n\rsentOrderT"
+    "ype\030\004 \001(\0162\031.ohla.rti.proto.OrderType:\007RE"
+    "CEIVE\022 \n\030transportationTypeHandle\030\005 \002(\r\022"
+    "\014\n\004time\030\006 \001(\014\022H\n\027messageRetractionHandle"
+    "\030\007 \001(\0132\'.ohla.rti.proto.MessageRetractio"
+    "nHandle\0227\n\021sentRegionHandles\030\010 \003(\0132\034.ohl"
+    "a.rti.proto.RegionHandle\"\372\001\n\024DeleteObjec"
+    "tInstance\022B\n\024objectInstanceHandle\030\001 \002(\0132"
+    "$.ohla.rti.proto.ObjectInstanceHandle\022\013\n"
+    "\003tag\030\002 \001(\014\0229\n\rsentOrderType\030\003 \001(\0162\031.ohla"
+    ".rti.proto.OrderType:\007RECEIVE\022\014\n\004time\030\004 "
+    "\001(\014\022H\n\027messageRetractionHandle\030\005 \001(\0132\'.o"
+    "hla.rti.proto.MessageRetractionHandle\"_\n"
+    "\031LocalDeleteObjectInstance\022B\n\024objectInst"
+    "anceHandle\030\001 \002(\0132$.ohla.rti.proto.Object"
+    "InstanceHandle\"\226\001\n)RequestObjectInstance"
+    "AttributeValueUpdate\022B\n\024objectInstanceHa"
+    "ndle\030\001 \002(\0132$.ohla.rti.proto.ObjectInstan"
+    "ceHandle\022\030\n\020attributeHandles\030\002 \003(\r\022\013\n\003ta"
+    "g\030\003 \001(\014\"j\n&RequestObjectClassAttributeVa"
+    "lueUpdate\022\031\n\021objectClassHandle\030\001 \002(\r\022\030\n\020"
+    "attributeHandles\030\002 \003(\r\022\013\n\003tag\030\003 \001(\014\"\265\001\n1"
+    "RequestObjectClassAttributeValueUpdateWi"
+    "thRegions\022\031\n\021objectClassHandle\030\001 \002(\r\022X\n\033"
+    "attributeRegionAssociations\030\002 \003(\01323.ohla"
+    ".rti.messages.proto.AttributeRegionAssoc"
+    "iation\022\013\n\003tag\030\003 \001(\014\"Q\n\033SetAutomaticResig"
+    "nDirective\0222\n\014resignAction\030\001 \002(\0162\034.ohla."
+    "rti.proto.ResignAction\"<\n\021GetFederateHan"
+    "dle\022\021\n\trequestId\030\001 \002(\004\022\024\n\014federateName\030\002"
+    " \002(\t\"<\n\017GetFederateName\022\021\n\trequestId\030\001 \002"
+    "(\004\022\026\n\016federateHandle\030\002 \002(\r\"\220\001\n\036GetUpdate"
+    "RateValueForAttribute\022\021\n\trequestId\030\001 \002(\004"
+    "\022B\n\024objectInstanceHandle\030\002 \002(\0132$.ohla.rt"
+    "i.proto.ObjectInstanceHandle\022\027\n\017attribut"
+    "eHandle\030\003 \002(\r\"\\\n\"QueryInteractionTranspo"
+    "rtationType\022\036\n\026interactionClassHandle\030\001 "
+    "\002(\r\022\026\n\016federateHandle\030\002 \002(\r\"\212\001\n*Uncondit"
+    "ionalAttributeOwnershipDivestiture\022B\n\024ob"
+    "jectInstanceHandle\030\001 \002(\0132$.ohla.rti.prot"
+    "o.ObjectInstanceHandle\022\030\n\020attributeHandl"
+    "es\030\002 \003(\r\"\224\001\n\'NegotiatedAttributeOwnershi"
+    "pDivestiture\022B\n\024objectInstanceHandle\030\001 \002"
+    "(\0132$.ohla.rti.proto.ObjectInstanceHandle"
+    "\022\030\n\020attributeHandles\030\002 \003(\r\022\013\n\003tag\030\003 \001(\014\""
+    "\177\n\022ConfirmDivestiture\022B\n\024objectInstanceH"
+    "andle\030\001 \002(\0132$.ohla.rti.proto.ObjectInsta"
+    "nceHandle\022\030\n\020attributeHandles\030\002 \003(\r\022\013\n\003t"
+    "ag\030\003 \001(\014\"\212\001\n\035AttributeOwnershipAcquisiti"
+    "on\022B\n\024objectInstanceHandle\030\001 \002(\0132$.ohla."
+    "rti.proto.ObjectInstanceHandle\022\030\n\020attrib"
+    "uteHandles\030\002 \003(\r\022\013\n\003tag\030\003 \001(\014\"\210\001\n(Attrib"
+    "uteOwnershipAcquisitionIfAvailable\022B\n\024ob"
+    "jectInstanceHandle\030\001 \002(\0132$.ohla.rti.prot"
+    "o.ObjectInstanceHandle\022\030\n\020attributeHandl"
+    "es\030\002 \003(\r\"\245\001\n%AttributeOwnershipDivestitu"
+    "reIfWanted\022\021\n\trequestId\030\001 \002(\004\022B\n\024objectI"
+    "nstanceHandle\030\002 \002(\0132$.ohla.rti.proto.Obj"
+    "ectInstanceHandle\022\030\n\020attributeHandles\030\003 "
+    "\003(\r\022\013\n\003tag\030\004 \001(\014\"\215\001\n-CancelNegotiatedAtt"
+    "ributeOwnershipDivestiture\022B\n\024objectInst"
+    "anceHandle\030\001 \002(\0132$.ohla.rti.proto.Object"
+    "InstanceHandle\022\030\n\020attributeHandles\030\002 \003(\r"
+    "\"\203\001\n#CancelAttributeOwnershipAcquisition"
+    "\022B\n\024objectInstanceHandle\030\001 \002(\0132$.ohla.rt"
+    "i.proto.ObjectInstanceHandle\022\030\n\020attribut"
+    "eHandles\030\002 \003(\r\"v\n\027QueryAttributeOwnershi"
+    "p\022B\n\024objectInstanceHandle\030\001 \002(\0132$.ohla.r"
+    "ti.proto.ObjectInstanceHandle\022\027\n\017attribu"
+    "teHandle\030\002 \002(\r\")\n\024EnableTimeRegulation\022\021"
+    "\n\tlookahead\030\001 \002(\014\"\027\n\025DisableTimeRegulati"
+    "on\"\027\n\025EnableTimeConstrained\"\030\n\026DisableTi"
+    "meConstrained\"\"\n\022TimeAdvanceRequest\022\014\n\004t"
+    "ime\030\001 \002(\014\"+\n\033TimeAdvanceRequestAvailable"
+    "\022\014\n\004time\030\001 \002(\014\"\"\n\022NextMessageRequest\022\014\n\004"
+    "time\030\001 \002(\014\"+\n\033NextMessageRequestAvailabl"
+    "e\022\014\n\004time\030\001 \002(\014\"!\n\021FlushQueueRequest\022\014\n\004"
+    "time\030\001 \002(\014\"\036\n\tQueryGALT\022\021\n\trequestId\030\001 \002"
+    "(\004\"\036\n\tQueryLITS\022\021\n\trequestId\030\001 \002(\004\"$\n\017Mo"
+    "difyLookahead\022\021\n\tlookahead\030\001 \002(\014\"f\n\007Retr"
+    "act\022\021\n\trequestId\030\001 \002(\004\022H\n\027messageRetract"
+    "ionHandle\030\002 \002(\0132\'.ohla.rti.proto.Message"
+    "RetractionHandle\"\\\n\014CreateRegion\0222\n\014regi"
+    "onHandle\030\001 \002(\0132\034.ohla.rti.proto.RegionHa"
+    "ndle\022\030\n\020dimensionHandles\030\002 \003(\r\"\215\002\n\031Commi"
+    "tRegionModifications\022b\n\023regionModificati"
+    "ons\030\001 \003(\0132E.ohla.rti.messages.proto.Comm"
+    "itRegionModifications.RegionModification"
+    "\032\213\001\n\022RegionModification\0222\n\014regionHandle\030"
+    "\001 \002(\0132\034.ohla.rti.proto.RegionHandle\022A\n\024d"
+    "imensionRangeBounds\030\002 \003(\0132#.ohla.rti.pro"
+    "to.DimensionRangeBound\"B\n\014DeleteRegion\0222"
+    "\n\014regionHandle\030\001 \002(\0132\034.ohla.rti.proto.Re"
+    "gionHandle\"\315\001\n\032AssociateRegionsForUpdate"
+    "s\022\021\n\trequestId\030\001 \002(\004\022B\n\024objectInstanceHa"
+    "ndle\030\002 \002(\0132$.ohla.rti.proto.ObjectInstan"
+    "ceHandle\022X\n\033attributeRegionAssociations\030"
+    "\003 \003(\01323.ohla.rti.messages.proto.Attribut"
+    "eRegionAssociation\"\317\001\n\034UnassociateRegion"
+    "sForUpdates\022\021\n\trequestId\030\001 \002(\004\022B\n\024object"
+    "InstanceHandle\030\002 \002(\0132$.ohla.rti.proto.Ob"
+    "jectInstanceHandle\022X\n\033attributeRegionAss"
+    "ociations\030\003 \003(\01323.ohla.rti.messages.prot"
+    "o.AttributeRegionAssociation\"\317\001\n)Subscri"
+    "beObjectClassAttributesWithRegions\022\031\n\021ob"
+    "jectClassHandle\030\001 \002(\r\022X\n\033attributeRegion"
+    "Associations\030\002 \003(\01323.ohla.rti.messages.p"
+    "roto.AttributeRegionAssociation\022\017\n\007passi"
+    "ve\030\003 \002(\010\022\034\n\024updateRateDesignator\030\004 \001(\t\"\242"
+    "\001\n+UnsubscribeObjectClassAttributesWithR"
+    "egions\022\031\n\021objectClassHandle\030\001 \002(\r\022X\n\033att"
+    "ributeRegionAssociations\030\002 \003(\01323.ohla.rt"
+    "i.messages.proto.AttributeRegionAssociat"
+    "ion\"\214\001\n$SubscribeInteractionClassWithReg"
+    "ions\022\036\n\026interactionClassHandle\030\001 \002(\r\022\017\n\007"
+    "passive\030\002 \002(\010\0223\n\rregionHandles\030\003 \003(\0132\034.o"
+    "hla.rti.proto.RegionHandle\"}\n&Unsubscrib"
+    "eInteractionClassWithRegions\022\036\n\026interact"
+    "ionClassHandle\030\001 \002(\r\0223\n\rregionHandles\030\002 "
+    "\003(\0132\034.ohla.rti.proto.RegionHandle\"\033\n\031Que"
+    "ryFederationSaveStatus\"\036\n\034QueryFederatio"
+    "nRestoreStatusB \n\036net.sf.ohla.rti.messag"
+    "es.proto", 7808);
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
+    "FederationExecutionMessageProtos.proto", &protobuf_RegisterTypes);
+  ResignFederationExecution::default_instance_ = new ResignFederationExecution();
+  RegisterFederationSynchronizationPoint::default_instance_ = new RegisterFederationSynchronizationPoint();
+  SynchronizationPointAchieved::default_instance_ = new SynchronizationPointAchieved();
+  RequestFederationSave::default_instance_ = new RequestFederationSave();
+  AbortFederationSave::default_instance_ = new AbortFederationSave();
+  FederateSaveBegun::default_instance_ = new FederateSaveBegun();
+  FederateSaveComplete::default_instance_ = new FederateSaveComplete();
+  FederateSaveNotComplete::default_instance_ = new FederateSaveNotComplete();
+  RequestFederationRestore::default_instance_ = new RequestFederationRestore();
+  AbortFederationRestore::default_instance_ = new AbortFederationRestore();
+  FederateRestoreComplete::default_instance_ = new FederateRestoreComplete();
+  FederateRestoreNotComplete::default_instance_ = new FederateRestoreNotComplete();
+  PublishObjectClassAttributes::default_instance_ = new PublishObjectClassAttributes();
+  UnpublishObjectClass::default_instance_ = new UnpublishObjectClass();
+  UnpublishObjectClassAttributes::default_instance_ = new UnpublishObjectClassAttributes();
+  PublishInteractionClass::default_instance_ = new PublishInteractionClass();
+  UnpublishInteractionClass::default_instance_ = new UnpublishInteractionClass();
+  SubscribeObjectClassAttributes::default_instance_ = new SubscribeObjectClassAttributes();
+  UnsubscribeObjectClassAttributes::default_instance_ = new UnsubscribeObjectClassAttributes();
+  SubscribeInteractionClass::default_instance_ = new SubscribeInteractionClass();
+  UnsubscribeInteractionClass::default_instance_ = new UnsubscribeInteractionClass();
+  ReserveObjectInstanceName::default_instance_ = new ReserveObjectInstanceName();
+  ReleaseObjectInstanceName::default_instance_ = new ReleaseObjectInstanceName();
+  ReserveMultipleObjectInstanceName::default_instance_ = new ReserveMultipleObjectInstanceName();
+  ReleaseMultipleObjectInstanceName::default_instance_ = new ReleaseMultipleObjectInstanceName();
+  AttributeRegionAssociation::default_instance_ = new AttributeRegionAssociation();
+  RegisterObjectInstance::default_instance_ = new RegisterObjectInstance();
+  RegisterObjectInstanceWithRegions::default_instance_ = new RegisterObjectInstanceWithRegions();
+  UpdateAttributeValues::default_instance_ = new UpdateAttributeValues();
+  SendInteraction::default_instance_ = new SendInteraction();
+  DeleteObjectInstance::default_instance_ = new DeleteObjectInstance();
+  LocalDeleteObjectInstance::default_instance_ = new LocalDeleteObjectInstance();
+  RequestObjectInstanceAttributeValueUpdate::default_instance_ = new RequestObjectInstanceAttributeValueUpdate();
+  RequestObjectClassAttributeValueUpdate::default_instance_ = new RequestObjectClassAttributeValueUpdate();
+  RequestObjectClassAttributeValueUpdateWithRegions::default_instance_ = new RequestObjectClassAttributeValueUpdateWithRegions();
+  SetAutomaticResignDirective::default_instance_ = new SetAutomaticResignDirective();
+  GetFederateHandle::default_instance_ = new GetFederateHandle();
+  GetFederateName::default_instance_ = new GetFederateName();
+  GetUpdateRateValueForAttribute::default_instance_ = new GetUpdateRateValueForAttribute();
+  QueryInteractionTransportationType::default_instance_ = new QueryInteractionTransportationType();
+  UnconditionalAttributeOwnershipDivestiture::default_instance_ = new UnconditionalAttributeOwnershipDivestiture();
+  NegotiatedAttributeOwnershipDivestiture::default_instance_ = new NegotiatedAttributeOwnershipDivestiture();
+  ConfirmDivestiture::default_instance_ = new ConfirmDivestiture();
+  AttributeOwnershipAcquisition::default_instance_ = new AttributeOwnershipAcquisition();
+  AttributeOwnershipAcquisitionIfAvailable::default_instance_ = new AttributeOwnershipAcquisitionIfAvailable();
+  AttributeOwnershipDivestitureIfWanted::default_instance_ = new AttributeOwnershipDivestitureIfWanted();
+  CancelNegotiatedAttributeOwnershipDivestiture::default_instance_ = new CancelNegotiatedAttributeOwnershipDivestiture();
+  CancelAttributeOwnershipAcquisition::default_instance_ = new CancelAttributeOwnershipAcquisition();
+  QueryAttributeOwnership::default_instance_ = new QueryAttributeOwnership();
+  EnableTimeRegulation::default_instance_ = new EnableTimeRegulation();
+  DisableTimeRegulation::default_instance_ = new DisableTimeRegulation();
+  EnableTimeConstrained::default_instance_ = new EnableTimeConstrained();
+  DisableTimeConstrained::default_instance_ = new DisableTimeConstrained();
+  TimeAdvanceRequest::default_instance_ = new TimeAdvanceRequest();
+  TimeAdvanceRequestAvailable::default_instance_ = new TimeAdvanceRequestAvailable();
+  NextMessageRequest::default_instance_ = new NextMessageRequest();
+  NextMessageRequestAvailable::default_instance_ = new NextMessageRequestAvailable();
+  FlushQueueRequest::default_instance_ = new FlushQueueRequest();
+  QueryGALT::default_instance_ = new QueryGALT();
+  QueryLITS::default_instance_ = new QueryLITS();
+  ModifyLookahead::default_instance_ = new ModifyLookahead();
+  Retract::default_instance_ = new Retract();
+  CreateRegion::default_instance_ = new CreateRegion();
+  CommitRegionModifications::default_instance_ = new CommitRegionModifications();
+  CommitRegionModifications_RegionModification::default_instance_ = new CommitRegionModifications_RegionModification();
+  DeleteRegion::default_instance_ = new DeleteRegion();
+  AssociateRegionsForUpdates::default_instance_ = new AssociateRegionsForUpdates();
+  UnassociateRegionsForUpdates::default_instance_ = new UnassociateRegionsForUpdates();
+  SubscribeObjectClassAttributesWithRegions::default_instance_ = new SubscribeObjectClassAttributesWithRegions();
+  UnsubscribeObjectClassAttributesWithRegions::default_instance_ = new UnsubscribeObjectClassAttributesWithRegions();
+  SubscribeInteractionClassWithRegions::default_instance_ = new SubscribeInteractionClassWithRegions();
+  UnsubscribeInteractionClassWithRegions::default_instance_ = new UnsubscribeInteractionClassWithRegions();
+  QueryFederationSaveStatus::default_instance_ = new QueryFederationSaveStatus();
+  QueryFederationRestoreStatus::default_instance_ = new QueryFederationRestoreStatus();
+  ResignFederationExecution::default_instance_->InitAsDefaultInstance();
+  RegisterFederationSynchronizationPoint::default_instance_->InitAsDefaultInstance();
+  SynchronizationPointAchieved::default_instance_->InitAsDefaultInstance();
+  RequestFederationSave::default_instance_->InitAsDefaultInstance();
+  AbortFederationSave::default_instance_->InitAsDefaultInstance();
+  FederateSaveBegun::default_instance_->InitAsDefaultInstance();
+  FederateSaveComplete::default_instance_->InitAsDefaultInstance();
+  FederateSaveNotComplete::default_instance_->InitAsDefaultInstance();
+  RequestFederationRestore::default_instance_->InitAsDefaultInstance();
+  AbortFederationRestore::default_instance_->InitAsDefaultInstance();
+  FederateRestoreComplete::default_instance_->InitAsDefaultInstance();
+  FederateRestoreNotComplete::default_instance_->InitAsDefaultInstance();
+  PublishObjectClassAttributes::default_instance_->InitAsDefaultInstance();
+  UnpublishObjectClass::default_instance_->InitAsDefaultInstance();
+  UnpublishObjectClassAttributes::default_instance_->InitAsDefaultInstance();
+  PublishInteractionClass::default_instance_->InitAsDefaultInstance();
+  UnpublishInteractionClass::default_instance_->InitAsDefaultInstance();
+  SubscribeObjectClassAttributes::default_instance_->InitAsDefaultInstance();
+  UnsubscribeObjectClassAttributes::default_instance_->InitAsDefaultInstance();
+  SubscribeInteractionClass::default_instance_->InitAsDefaultInstance();
+  UnsubscribeInteractionClass::default_instance_->InitAsDefaultInstance();
+  ReserveObjectInstanceName::default_instance_->InitAsDefaultInstance();
+  ReleaseObjectInstanceName::default_instance_->InitAsDefaultInstance();
+  ReserveMultipleObjectInstanceName::default_instance_->InitAsDefaultInstance();
+  ReleaseMultipleObjectInstanceName::default_instance_->InitAsDefaultInstance();
+  AttributeRegionAssociation::default_instance_->InitAsDefaultInstance();
+  RegisterObjectInstance::default_instance_->InitAsDefaultInstance();
+  RegisterObjectInstanceWithRegions::default_instance_->InitAsDefaultInstance();
+  UpdateAttributeValues::default_instance_->InitAsDefaultInstance();
+  SendInteraction::default_instance_->InitAsDefaultInstance();
+  DeleteObjectInstance::default_instance_->InitAsDefaultInstance();
+  LocalDeleteObjectInstance::default_instance_->InitAsDefaultInstance();
+  RequestObjectInstanceAttributeValueUpdate::default_instance_->InitAsDefaultInstance();
+  RequestObjectClassAttributeValueUpdate::default_instance_->InitAsDefaultInstance();
+  RequestObjectClassAttributeValueUpdateWithRegions::default_instance_->InitAsDefaultInstance();
+  SetAutomaticResignDirective::default_instance_->InitAsDefaultInstance();
+  GetFederateHandle::default_instance_->InitAsDefaultInstance();
+  GetFederateName::default_instance_->InitAsDefaultInstance();
+  GetUpdateRateValueForAttribute::default_instance_->InitAsDefaultInstance();
+  QueryInteractionTransportationType::default_instance_->InitAsDefaultInstance();
+  UnconditionalAttributeOwnershipDivestiture::default_instance_->InitAsDefaultInstance();
+  NegotiatedAttributeOwnershipDivestiture::default_instance_->InitAsDefaultInstance();
+  ConfirmDivestiture::default_instance_->InitAsDefaultInstance();
+  AttributeOwnershipAcquisition::default_instance_->InitAsDefaultInstance();
+  AttributeOwnershipAcquisitionIfAvailable::default_instance_->InitAsDefaultInstance();
+  AttributeOwnershipDivestitureIfWanted::default_instance_->InitAsDefaultInstance();
+  CancelNegotiatedAttributeOwnershipDivestiture::default_instance_->InitAsDefaultInstance();
+  CancelAttributeOwnershipAcquisition::default_instance_->InitAsDefaultInstance();
+  QueryAttributeOwnership::default_instance_->InitAsDefaultInstance();
+  EnableTimeRegulation::default_instance_->InitAsDefaultInstance();
+  DisableTimeRegulation::default_instance_->InitAsDefaultInstance();
+  EnableTimeConstrained::default_instance_->InitAsDefaultInstance();
+  DisableTimeConstrained::default_instance_->InitAsDefaultInstance();
+  TimeAdvanceRequest::default_instance_->InitAsDefaultInstance();
+  TimeAdvanceRequestAvailable::default_instance_->InitAsDefaultInstance();
+  NextMessageRequest::default_instance_->InitAsDefaultInstance();
+  NextMessageRequestAvailable::default_instance_->InitAsDefaultInstance();
+  FlushQueueRequest::default_instance_->InitAsDefaultInstance();
+  QueryGALT::default_instance_->InitAsDefaultInstance();
+  QueryLITS::default_instance_->InitAsDefaultInstance();
+  ModifyLookahead::default_instance_->InitAsDefaultInstance();
+  Retract::default_instance_->InitAsDefaultInstance();
+  CreateRegion::default_instance_->InitAsDefaultInstance();
+  CommitRegionModifications::default_instance_->InitAsDefaultInstance();
+  CommitRegionModifications_RegionModification::default_instance_->InitAsDefaultInstance();
+  DeleteRegion::default_instance_->InitAsDefaultInstance();
+  AssociateRegionsForUpdates::default_instance_->InitAsDefaultInstance();
+  UnassociateRegionsForUpdates::default_instance_->InitAsDefaultInstance();
+  SubscribeObjectClassAttributesWithRegions::default_instance_->InitAsDefaultInstance();
+  UnsubscribeObjectClassAttributesWithRegions::default_instance_->InitAsDefaultInstance();
+  SubscribeInteractionClassWithRegions::default_instance_->InitAsDefaultInstance();
+  UnsubscribeInteractionClassWithRegions::default_instance_->InitAsDefaultInstance();
+  QueryFederationSaveStatus::default_instance_->InitAsDefaultInstance();
+  QueryFederationRestoreStatus::default_instance_->InitAsDefaultInstance();
+  ::google::protobuf::internal::OnShutdown(&protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto);
+}
+
+// Force AddDescriptors() to be called at static initialization time.
+struct StaticDescriptorInitializer_FederationExecutionMessageProtos_2eproto {
+  StaticDescriptorInitializer_FederationExecutionMessageProtos_2eproto() {
+    protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  }
+} static_descriptor_initializer_FederationExecutionMessageProtos_2eproto_;
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ResignFederationExecution::kResignActionFieldNumber;
+#endif  // !_MSC_VER
+
+ResignFederationExecution::ResignFederationExecution()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ResignFederationExecution::InitAsDefaultInstance() {
+}
+
+ResignFederationExecution::ResignFederationExecution(const ResignFederationExecution& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ResignFederationExecution::SharedCtor() {
+  _cached_size_ = 0;
+  resignaction_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ResignFederationExecution::~ResignFederationExecution() {
+  SharedDtor();
+}
+
+void ResignFederationExecution::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void ResignFederationExecution::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ResignFederationExecution::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ResignFederationExecution_descriptor_;
+}
+
+const ResignFederationExecution& ResignFederationExecution::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ResignFederationExecution* ResignFederationExecution::default_instance_ = NULL;
+
+ResignFederationExecution* ResignFederationExecution::New() const {
+  return new ResignFederationExecution;
+}
+
+void ResignFederationExecution::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    resignaction_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ResignFederationExecution::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ResignAction resignAction = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::ResignAction_IsValid(value)) {
+            set_resignaction(static_cast< ::ohla::rti::proto::ResignAction >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ResignFederationExecution::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ResignAction resignAction = 1;
+  if (has_resignaction()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->resignaction(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ResignFederationExecution::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ResignAction resignAction = 1;
+  if (has_resignaction()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->resignaction(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ResignFederationExecution::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ResignAction resignAction = 1;
+    if (has_resignaction()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->resignaction());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ResignFederationExecution::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ResignFederationExecution* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ResignFederationExecution*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ResignFederationExecution::MergeFrom(const ResignFederationExecution& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_resignaction()) {
+      set_resignaction(from.resignaction());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ResignFederationExecution::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ResignFederationExecution::CopyFrom(const ResignFederationExecution& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ResignFederationExecution::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void ResignFederationExecution::Swap(ResignFederationExecution* other) {
+  if (other != this) {
+    std::swap(resignaction_, other->resignaction_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ResignFederationExecution::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ResignFederationExecution_descriptor_;
+  metadata.reflection = ResignFederationExecution_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RegisterFederationSynchronizationPoint::kLabelFieldNumber;
+const int RegisterFederationSynchronizationPoint::kTagFieldNumber;
+const int RegisterFederationSynchronizationPoint::kFederateHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+RegisterFederationSynchronizationPoint::RegisterFederationSynchronizationPoint()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RegisterFederationSynchronizationPoint::InitAsDefaultInstance() {
+}
+
+RegisterFederationSynchronizationPoint::RegisterFederationSynchronizationPoint(const RegisterFederationSynchronizationPoint& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RegisterFederationSynchronizationPoint::SharedCtor() {
+  _cached_size_ = 0;
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RegisterFederationSynchronizationPoint::~RegisterFederationSynchronizationPoint() {
+  SharedDtor();
+}
+
+void RegisterFederationSynchronizationPoint::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void RegisterFederationSynchronizationPoint::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RegisterFederationSynchronizationPoint::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RegisterFederationSynchronizationPoint_descriptor_;
+}
+
+const RegisterFederationSynchronizationPoint& RegisterFederationSynchronizationPoint::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RegisterFederationSynchronizationPoint* RegisterFederationSynchronizationPoint::default_instance_ = NULL;
+
+RegisterFederationSynchronizationPoint* RegisterFederationSynchronizationPoint::New() const {
+  return new RegisterFederationSynchronizationPoint;
+}
+
+void RegisterFederationSynchronizationPoint::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+  }
+  federatehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RegisterFederationSynchronizationPoint::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string label = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_federateHandles;
+        break;
+      }
+
+      // repeated uint32 federateHandles = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_federateHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 24, input, this->mutable_federatehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_federatehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_federateHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RegisterFederationSynchronizationPoint::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->label(), output);
+  }
+
+  // optional bytes tag = 2;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      2, this->tag(), output);
+  }
+
+  // repeated uint32 federateHandles = 3;
+  for (int i = 0; i < this->federatehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      3, this->federatehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RegisterFederationSynchronizationPoint::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->label(), target);
+  }
+
+  // optional bytes tag = 2;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        2, this->tag(), target);
+  }
+
+  // repeated uint32 federateHandles = 3;
+  for (int i = 0; i < this->federatehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(3, this->federatehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RegisterFederationSynchronizationPoint::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string label = 1;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+    // optional bytes tag = 2;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+  }
+  // repeated uint32 federateHandles = 3;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->federatehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->federatehandles(i));
+    }
+    total_size += 1 * this->federatehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RegisterFederationSynchronizationPoint::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RegisterFederationSynchronizationPoint* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RegisterFederationSynchronizationPoint*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RegisterFederationSynchronizationPoint::MergeFrom(const RegisterFederationSynchronizationPoint& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  federatehandles_.MergeFrom(from.federatehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RegisterFederationSynchronizationPoint::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RegisterFederationSynchronizationPoint::CopyFrom(const RegisterFederationSynchronizationPoint& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RegisterFederationSynchronizationPoint::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void RegisterFederationSynchronizationPoint::Swap(RegisterFederationSynchronizationPoint* other) {
+  if (other != this) {
+    std::swap(label_, other->label_);
+    std::swap(tag_, other->tag_);
+    federatehandles_.Swap(&other->federatehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RegisterFederationSynchronizationPoint::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RegisterFederationSynchronizationPoint_descriptor_;
+  metadata.reflection = RegisterFederationSynchronizationPoint_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int SynchronizationPointAchieved::kLabelFieldNumber;
+const int SynchronizationPointAchieved::kSuccessfulFieldNumber;
+#endif  // !_MSC_VER
+
+SynchronizationPointAchieved::SynchronizationPointAchieved()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void SynchronizationPointAchieved::InitAsDefaultInstance() {
+}
+
+SynchronizationPointAchieved::SynchronizationPointAchieved(const SynchronizationPointAchieved& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void SynchronizationPointAchieved::SharedCtor() {
+  _cached_size_ = 0;
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  successful_ = false;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+SynchronizationPointAchieved::~SynchronizationPointAchieved() {
+  SharedDtor();
+}
+
+void SynchronizationPointAchieved::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void SynchronizationPointAchieved::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* SynchronizationPointAchieved::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return SynchronizationPointAchieved_descriptor_;
+}
+
+const SynchronizationPointAchieved& SynchronizationPointAchieved::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+SynchronizationPointAchieved* SynchronizationPointAchieved::default_instance_ = NULL;
+
+SynchronizationPointAchieved* SynchronizationPointAchieved::New() const {
+  return new SynchronizationPointAchieved;
+}
+
+void SynchronizationPointAchieved::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+    successful_ = false;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool SynchronizationPointAchieved::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string label = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_successful;
+        break;
+      }
+
+      // required bool successful = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_successful:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &successful_)));
+          set_has_successful();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void SynchronizationPointAchieved::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->label(), output);
+  }
+
+  // required bool successful = 2;
+  if (has_successful()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(2, this->successful(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* SynchronizationPointAchieved::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->label(), target);
+  }
+
+  // required bool successful = 2;
+  if (has_successful()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(2, this->successful(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int SynchronizationPointAchieved::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string label = 1;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+    // required bool successful = 2;
+    if (has_successful()) {
+      total_size += 1 + 1;
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void SynchronizationPointAchieved::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const SynchronizationPointAchieved* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const SynchronizationPointAchieved*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void SynchronizationPointAchieved::MergeFrom(const SynchronizationPointAchieved& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+    if (from.has_successful()) {
+      set_successful(from.successful());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void SynchronizationPointAchieved::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void SynchronizationPointAchieved::CopyFrom(const SynchronizationPointAchieved& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool SynchronizationPointAchieved::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void SynchronizationPointAchieved::Swap(SynchronizationPointAchieved* other) {
+  if (other != this) {
+    std::swap(label_, other->label_);
+    std::swap(successful_, other->successful_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata SynchronizationPointAchieved::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = SynchronizationPointAchieved_descriptor_;
+  metadata.reflection = SynchronizationPointAchieved_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RequestFederationSave::kRequestIdFieldNumber;
+const int RequestFederationSave::kLabelFieldNumber;
+const int RequestFederationSave::kTimeFieldNumber;
+#endif  // !_MSC_VER
+
+RequestFederationSave::RequestFederationSave()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestFederationSave::InitAsDefaultInstance() {
+}
+
+RequestFederationSave::RequestFederationSave(const RequestFederationSave& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestFederationSave::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestFederationSave::~RequestFederationSave() {
+  SharedDtor();
+}
+
+void RequestFederationSave::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void RequestFederationSave::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestFederationSave::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestFederationSave_descriptor_;
+}
+
+const RequestFederationSave& RequestFederationSave::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestFederationSave* RequestFederationSave::default_instance_ = NULL;
+
+RequestFederationSave* RequestFederationSave::New() const {
+  return new RequestFederationSave;
+}
+
+void RequestFederationSave::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestFederationSave::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_label;
+        break;
+      }
+
+      // required string label = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_label:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_time;
+        break;
+      }
+
+      // optional bytes time = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_time:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestFederationSave::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // required string label = 2;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->label(), output);
+  }
+
+  // optional bytes time = 3;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->time(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestFederationSave::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // required string label = 2;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->label(), target);
+  }
+
+  // optional bytes time = 3;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->time(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestFederationSave::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // required string label = 2;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+    // optional bytes time = 3;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestFederationSave::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestFederationSave* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestFederationSave*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestFederationSave::MergeFrom(const RequestFederationSave& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestFederationSave::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestFederationSave::CopyFrom(const RequestFederationSave& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestFederationSave::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void RequestFederationSave::Swap(RequestFederationSave* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(label_, other->label_);
+    std::swap(time_, other->time_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestFederationSave::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestFederationSave_descriptor_;
+  metadata.reflection = RequestFederationSave_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AbortFederationSave::kRequestIdFieldNumber;
+#endif  // !_MSC_VER
+
+AbortFederationSave::AbortFederationSave()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AbortFederationSave::InitAsDefaultInstance() {
+}
+
+AbortFederationSave::AbortFederationSave(const AbortFederationSave& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AbortFederationSave::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AbortFederationSave::~AbortFederationSave() {
+  SharedDtor();
+}
+
+void AbortFederationSave::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void AbortFederationSave::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AbortFederationSave::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AbortFederationSave_descriptor_;
+}
+
+const AbortFederationSave& AbortFederationSave::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AbortFederationSave* AbortFederationSave::default_instance_ = NULL;
+
+AbortFederationSave* AbortFederationSave::New() const {
+  return new AbortFederationSave;
+}
+
+void AbortFederationSave::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AbortFederationSave::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AbortFederationSave::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AbortFederationSave::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AbortFederationSave::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AbortFederationSave::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AbortFederationSave* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AbortFederationSave*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AbortFederationSave::MergeFrom(const AbortFederationSave& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AbortFederationSave::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AbortFederationSave::CopyFrom(const AbortFederationSave& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AbortFederationSave::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void AbortFederationSave::Swap(AbortFederationSave* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AbortFederationSave::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AbortFederationSave_descriptor_;
+  metadata.reflection = AbortFederationSave_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+FederateSaveBegun::FederateSaveBegun()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateSaveBegun::InitAsDefaultInstance() {
+}
+
+FederateSaveBegun::FederateSaveBegun(const FederateSaveBegun& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateSaveBegun::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateSaveBegun::~FederateSaveBegun() {
+  SharedDtor();
+}
+
+void FederateSaveBegun::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederateSaveBegun::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateSaveBegun::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateSaveBegun_descriptor_;
+}
+
+const FederateSaveBegun& FederateSaveBegun::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateSaveBegun* FederateSaveBegun::default_instance_ = NULL;
+
+FederateSaveBegun* FederateSaveBegun::New() const {
+  return new FederateSaveBegun;
+}
+
+void FederateSaveBegun::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateSaveBegun::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void FederateSaveBegun::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateSaveBegun::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateSaveBegun::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateSaveBegun::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateSaveBegun* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateSaveBegun*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateSaveBegun::MergeFrom(const FederateSaveBegun& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateSaveBegun::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateSaveBegun::CopyFrom(const FederateSaveBegun& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateSaveBegun::IsInitialized() const {
+
+  return true;
+}
+
+void FederateSaveBegun::Swap(FederateSaveBegun* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateSaveBegun::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateSaveBegun_descriptor_;
+  metadata.reflection = FederateSaveBegun_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+FederateSaveComplete::FederateSaveComplete()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateSaveComplete::InitAsDefaultInstance() {
+}
+
+FederateSaveComplete::FederateSaveComplete(const FederateSaveComplete& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateSaveComplete::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateSaveComplete::~FederateSaveComplete() {
+  SharedDtor();
+}
+
+void FederateSaveComplete::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederateSaveComplete::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateSaveComplete::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateSaveComplete_descriptor_;
+}
+
+const FederateSaveComplete& FederateSaveComplete::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateSaveComplete* FederateSaveComplete::default_instance_ = NULL;
+
+FederateSaveComplete* FederateSaveComplete::New() const {
+  return new FederateSaveComplete;
+}
+
+void FederateSaveComplete::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateSaveComplete::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void FederateSaveComplete::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateSaveComplete::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateSaveComplete::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateSaveComplete::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateSaveComplete* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateSaveComplete*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateSaveComplete::MergeFrom(const FederateSaveComplete& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateSaveComplete::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateSaveComplete::CopyFrom(const FederateSaveComplete& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateSaveComplete::IsInitialized() const {
+
+  return true;
+}
+
+void FederateSaveComplete::Swap(FederateSaveComplete* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateSaveComplete::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateSaveComplete_descriptor_;
+  metadata.reflection = FederateSaveComplete_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+FederateSaveNotComplete::FederateSaveNotComplete()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateSaveNotComplete::InitAsDefaultInstance() {
+}
+
+FederateSaveNotComplete::FederateSaveNotComplete(const FederateSaveNotComplete& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateSaveNotComplete::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateSaveNotComplete::~FederateSaveNotComplete() {
+  SharedDtor();
+}
+
+void FederateSaveNotComplete::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederateSaveNotComplete::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateSaveNotComplete::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateSaveNotComplete_descriptor_;
+}
+
+const FederateSaveNotComplete& FederateSaveNotComplete::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateSaveNotComplete* FederateSaveNotComplete::default_instance_ = NULL;
+
+FederateSaveNotComplete* FederateSaveNotComplete::New() const {
+  return new FederateSaveNotComplete;
+}
+
+void FederateSaveNotComplete::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateSaveNotComplete::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void FederateSaveNotComplete::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateSaveNotComplete::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateSaveNotComplete::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateSaveNotComplete::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateSaveNotComplete* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateSaveNotComplete*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateSaveNotComplete::MergeFrom(const FederateSaveNotComplete& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateSaveNotComplete::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateSaveNotComplete::CopyFrom(const FederateSaveNotComplete& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateSaveNotComplete::IsInitialized() const {
+
+  return true;
+}
+
+void FederateSaveNotComplete::Swap(FederateSaveNotComplete* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateSaveNotComplete::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateSaveNotComplete_descriptor_;
+  metadata.reflection = FederateSaveNotComplete_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RequestFederationRestore::kRequestIdFieldNumber;
+const int RequestFederationRestore::kLabelFieldNumber;
+#endif  // !_MSC_VER
+
+RequestFederationRestore::RequestFederationRestore()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestFederationRestore::InitAsDefaultInstance() {
+}
+
+RequestFederationRestore::RequestFederationRestore(const RequestFederationRestore& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestFederationRestore::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestFederationRestore::~RequestFederationRestore() {
+  SharedDtor();
+}
+
+void RequestFederationRestore::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void RequestFederationRestore::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestFederationRestore::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestFederationRestore_descriptor_;
+}
+
+const RequestFederationRestore& RequestFederationRestore::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestFederationRestore* RequestFederationRestore::default_instance_ = NULL;
+
+RequestFederationRestore* RequestFederationRestore::New() const {
+  return new RequestFederationRestore;
+}
+
+void RequestFederationRestore::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestFederationRestore::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_label;
+        break;
+      }
+
+      // required string label = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_label:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestFederationRestore::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // required string label = 2;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->label(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestFederationRestore::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // required string label = 2;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->label(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestFederationRestore::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // required string label = 2;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestFederationRestore::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestFederationRestore* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestFederationRestore*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestFederationRestore::MergeFrom(const RequestFederationRestore& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestFederationRestore::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestFederationRestore::CopyFrom(const RequestFederationRestore& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestFederationRestore::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void RequestFederationRestore::Swap(RequestFederationRestore* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(label_, other->label_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestFederationRestore::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestFederationRestore_descriptor_;
+  metadata.reflection = RequestFederationRestore_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AbortFederationRestore::kRequestIdFieldNumber;
+#endif  // !_MSC_VER
+
+AbortFederationRestore::AbortFederationRestore()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AbortFederationRestore::InitAsDefaultInstance() {
+}
+
+AbortFederationRestore::AbortFederationRestore(const AbortFederationRestore& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AbortFederationRestore::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AbortFederationRestore::~AbortFederationRestore() {
+  SharedDtor();
+}
+
+void AbortFederationRestore::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void AbortFederationRestore::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AbortFederationRestore::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AbortFederationRestore_descriptor_;
+}
+
+const AbortFederationRestore& AbortFederationRestore::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AbortFederationRestore* AbortFederationRestore::default_instance_ = NULL;
+
+AbortFederationRestore* AbortFederationRestore::New() const {
+  return new AbortFederationRestore;
+}
+
+void AbortFederationRestore::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AbortFederationRestore::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AbortFederationRestore::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AbortFederationRestore::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AbortFederationRestore::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AbortFederationRestore::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AbortFederationRestore* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AbortFederationRestore*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AbortFederationRestore::MergeFrom(const AbortFederationRestore& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AbortFederationRestore::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AbortFederationRestore::CopyFrom(const AbortFederationRestore& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AbortFederationRestore::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void AbortFederationRestore::Swap(AbortFederationRestore* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AbortFederationRestore::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AbortFederationRestore_descriptor_;
+  metadata.reflection = AbortFederationRestore_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+FederateRestoreComplete::FederateRestoreComplete()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateRestoreComplete::InitAsDefaultInstance() {
+}
+
+FederateRestoreComplete::FederateRestoreComplete(const FederateRestoreComplete& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateRestoreComplete::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateRestoreComplete::~FederateRestoreComplete() {
+  SharedDtor();
+}
+
+void FederateRestoreComplete::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederateRestoreComplete::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateRestoreComplete::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateRestoreComplete_descriptor_;
+}
+
+const FederateRestoreComplete& FederateRestoreComplete::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateRestoreComplete* FederateRestoreComplete::default_instance_ = NULL;
+
+FederateRestoreComplete* FederateRestoreComplete::New() const {
+  return new FederateRestoreComplete;
+}
+
+void FederateRestoreComplete::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateRestoreComplete::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void FederateRestoreComplete::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateRestoreComplete::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateRestoreComplete::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateRestoreComplete::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateRestoreComplete* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateRestoreComplete*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateRestoreComplete::MergeFrom(const FederateRestoreComplete& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateRestoreComplete::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateRestoreComplete::CopyFrom(const FederateRestoreComplete& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateRestoreComplete::IsInitialized() const {
+
+  return true;
+}
+
+void FederateRestoreComplete::Swap(FederateRestoreComplete* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateRestoreComplete::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateRestoreComplete_descriptor_;
+  metadata.reflection = FederateRestoreComplete_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+FederateRestoreNotComplete::FederateRestoreNotComplete()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateRestoreNotComplete::InitAsDefaultInstance() {
+}
+
+FederateRestoreNotComplete::FederateRestoreNotComplete(const FederateRestoreNotComplete& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateRestoreNotComplete::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateRestoreNotComplete::~FederateRestoreNotComplete() {
+  SharedDtor();
+}
+
+void FederateRestoreNotComplete::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederateRestoreNotComplete::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateRestoreNotComplete::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateRestoreNotComplete_descriptor_;
+}
+
+const FederateRestoreNotComplete& FederateRestoreNotComplete::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateRestoreNotComplete* FederateRestoreNotComplete::default_instance_ = NULL;
+
+FederateRestoreNotComplete* FederateRestoreNotComplete::New() const {
+  return new FederateRestoreNotComplete;
+}
+
+void FederateRestoreNotComplete::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateRestoreNotComplete::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void FederateRestoreNotComplete::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateRestoreNotComplete::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateRestoreNotComplete::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateRestoreNotComplete::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateRestoreNotComplete* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateRestoreNotComplete*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateRestoreNotComplete::MergeFrom(const FederateRestoreNotComplete& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateRestoreNotComplete::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateRestoreNotComplete::CopyFrom(const FederateRestoreNotComplete& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateRestoreNotComplete::IsInitialized() const {
+
+  return true;
+}
+
+void FederateRestoreNotComplete::Swap(FederateRestoreNotComplete* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateRestoreNotComplete::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateRestoreNotComplete_descriptor_;
+  metadata.reflection = FederateRestoreNotComplete_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int PublishObjectClassAttributes::kObjectClassHandleFieldNumber;
+const int PublishObjectClassAttributes::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+PublishObjectClassAttributes::PublishObjectClassAttributes()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void PublishObjectClassAttributes::InitAsDefaultInstance() {
+}
+
+PublishObjectClassAttributes::PublishObjectClassAttributes(const PublishObjectClassAttributes& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void PublishObjectClassAttributes::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+PublishObjectClassAttributes::~PublishObjectClassAttributes() {
+  SharedDtor();
+}
+
+void PublishObjectClassAttributes::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void PublishObjectClassAttributes::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* PublishObjectClassAttributes::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return PublishObjectClassAttributes_descriptor_;
+}
+
+const PublishObjectClassAttributes& PublishObjectClassAttributes::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+PublishObjectClassAttributes* PublishObjectClassAttributes::default_instance_ = NULL;
+
+PublishObjectClassAttributes* PublishObjectClassAttributes::New() const {
+  return new PublishObjectClassAttributes;
+}
+
+void PublishObjectClassAttributes::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool PublishObjectClassAttributes::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void PublishObjectClassAttributes::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* PublishObjectClassAttributes::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int PublishObjectClassAttributes::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void PublishObjectClassAttributes::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const PublishObjectClassAttributes* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const PublishObjectClassAttributes*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void PublishObjectClassAttributes::MergeFrom(const PublishObjectClassAttributes& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void PublishObjectClassAttributes::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void PublishObjectClassAttributes::CopyFrom(const PublishObjectClassAttributes& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool PublishObjectClassAttributes::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void PublishObjectClassAttributes::Swap(PublishObjectClassAttributes* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata PublishObjectClassAttributes::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = PublishObjectClassAttributes_descriptor_;
+  metadata.reflection = PublishObjectClassAttributes_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int UnpublishObjectClass::kObjectClassHandleFieldNumber;
+const int UnpublishObjectClass::kObjectInstanceHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+UnpublishObjectClass::UnpublishObjectClass()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void UnpublishObjectClass::InitAsDefaultInstance() {
+}
+
+UnpublishObjectClass::UnpublishObjectClass(const UnpublishObjectClass& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void UnpublishObjectClass::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+UnpublishObjectClass::~UnpublishObjectClass() {
+  SharedDtor();
+}
+
+void UnpublishObjectClass::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void UnpublishObjectClass::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* UnpublishObjectClass::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return UnpublishObjectClass_descriptor_;
+}
+
+const UnpublishObjectClass& UnpublishObjectClass::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+UnpublishObjectClass* UnpublishObjectClass::default_instance_ = NULL;
+
+UnpublishObjectClass* UnpublishObjectClass::New() const {
+  return new UnpublishObjectClass;
+}
+
+void UnpublishObjectClass::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+  }
+  objectinstancehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool UnpublishObjectClass::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_objectInstanceHandles;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceHandles:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_objectinstancehandles()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_objectInstanceHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void UnpublishObjectClass::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  // repeated .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandles = 2;
+  for (int i = 0; i < this->objectinstancehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->objectinstancehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* UnpublishObjectClass::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  // repeated .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandles = 2;
+  for (int i = 0; i < this->objectinstancehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->objectinstancehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int UnpublishObjectClass::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+  }
+  // repeated .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandles = 2;
+  total_size += 1 * this->objectinstancehandles_size();
+  for (int i = 0; i < this->objectinstancehandles_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->objectinstancehandles(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void UnpublishObjectClass::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const UnpublishObjectClass* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const UnpublishObjectClass*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void UnpublishObjectClass::MergeFrom(const UnpublishObjectClass& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  objectinstancehandles_.MergeFrom(from.objectinstancehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void UnpublishObjectClass::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void UnpublishObjectClass::CopyFrom(const UnpublishObjectClass& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool UnpublishObjectClass::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  for (int i = 0; i < objectinstancehandles_size(); i++) {
+    if (!this->objectinstancehandles(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void UnpublishObjectClass::Swap(UnpublishObjectClass* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    objectinstancehandles_.Swap(&other->objectinstancehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata UnpublishObjectClass::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = UnpublishObjectClass_descriptor_;
+  metadata.reflection = UnpublishObjectClass_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int UnpublishObjectClassAttributes::kObjectClassHandleFieldNumber;
+const int UnpublishObjectClassAttributes::kAttributeHandlesFieldNumber;
+const int UnpublishObjectClassAttributes::kObjectInstanceHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+UnpublishObjectClassAttributes::UnpublishObjectClassAttributes()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void UnpublishObjectClassAttributes::InitAsDefaultInstance() {
+}
+
+UnpublishObjectClassAttributes::UnpublishObjectClassAttributes(const UnpublishObjectClassAttributes& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void UnpublishObjectClassAttributes::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+UnpublishObjectClassAttributes::~UnpublishObjectClassAttributes() {
+  SharedDtor();
+}
+
+void UnpublishObjectClassAttributes::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void UnpublishObjectClassAttributes::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* UnpublishObjectClassAttributes::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return UnpublishObjectClassAttributes_descriptor_;
+}
+
+const UnpublishObjectClassAttributes& UnpublishObjectClassAttributes::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+UnpublishObjectClassAttributes* UnpublishObjectClassAttributes::default_instance_ = NULL;
+
+UnpublishObjectClassAttributes* UnpublishObjectClassAttributes::New() const {
+  return new UnpublishObjectClassAttributes;
+}
+
+void UnpublishObjectClassAttributes::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+  }
+  attributehandles_.Clear();
+  objectinstancehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool UnpublishObjectClassAttributes::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectTag(26)) goto parse_objectInstanceHandles;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandles = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceHandles:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_objectinstancehandles()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_objectInstanceHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void UnpublishObjectClassAttributes::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  // repeated .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandles = 3;
+  for (int i = 0; i < this->objectinstancehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->objectinstancehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* UnpublishObjectClassAttributes::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  // repeated .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandles = 3;
+  for (int i = 0; i < this->objectinstancehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->objectinstancehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int UnpublishObjectClassAttributes::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  // repeated .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandles = 3;
+  total_size += 1 * this->objectinstancehandles_size();
+  for (int i = 0; i < this->objectinstancehandles_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->objectinstancehandles(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void UnpublishObjectClassAttributes::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const UnpublishObjectClassAttributes* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const UnpublishObjectClassAttributes*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void UnpublishObjectClassAttributes::MergeFrom(const UnpublishObjectClassAttributes& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  objectinstancehandles_.MergeFrom(from.objectinstancehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void UnpublishObjectClassAttributes::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void UnpublishObjectClassAttributes::CopyFrom(const UnpublishObjectClassAttributes& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool UnpublishObjectClassAttributes::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  for (int i = 0; i < objectinstancehandles_size(); i++) {
+    if (!this->objectinstancehandles(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void UnpublishObjectClassAttributes::Swap(UnpublishObjectClassAttributes* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    objectinstancehandles_.Swap(&other->objectinstancehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata UnpublishObjectClassAttributes::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = UnpublishObjectClassAttributes_descriptor_;
+  metadata.reflection = UnpublishObjectClassAttributes_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int PublishInteractionClass::kInteractionClassHandleFieldNumber;
+#endif  // !_MSC_VER
+
+PublishInteractionClass::PublishInteractionClass()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void PublishInteractionClass::InitAsDefaultInstance() {
+}
+
+PublishInteractionClass::PublishInteractionClass(const PublishInteractionClass& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void PublishInteractionClass::SharedCtor() {
+  _cached_size_ = 0;
+  interactionclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+PublishInteractionClass::~PublishInteractionClass() {
+  SharedDtor();
+}
+
+void PublishInteractionClass::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void PublishInteractionClass::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* PublishInteractionClass::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return PublishInteractionClass_descriptor_;
+}
+
+const PublishInteractionClass& PublishInteractionClass::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+PublishInteractionClass* PublishInteractionClass::default_instance_ = NULL;
+
+PublishInteractionClass* PublishInteractionClass::New() const {
+  return new PublishInteractionClass;
+}
+
+void PublishInteractionClass::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    interactionclasshandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool PublishInteractionClass::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 interactionClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &interactionclasshandle_)));
+          set_has_interactionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void PublishInteractionClass::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->interactionclasshandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* PublishInteractionClass::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->interactionclasshandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int PublishInteractionClass::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 interactionClassHandle = 1;
+    if (has_interactionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->interactionclasshandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void PublishInteractionClass::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const PublishInteractionClass* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const PublishInteractionClass*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void PublishInteractionClass::MergeFrom(const PublishInteractionClass& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_interactionclasshandle()) {
+      set_interactionclasshandle(from.interactionclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void PublishInteractionClass::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void PublishInteractionClass::CopyFrom(const PublishInteractionClass& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool PublishInteractionClass::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void PublishInteractionClass::Swap(PublishInteractionClass* other) {
+  if (other != this) {
+    std::swap(interactionclasshandle_, other->interactionclasshandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata PublishInteractionClass::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = PublishInteractionClass_descriptor_;
+  metadata.reflection = PublishInteractionClass_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int UnpublishInteractionClass::kInteractionClassHandleFieldNumber;
+#endif  // !_MSC_VER
+
+UnpublishInteractionClass::UnpublishInteractionClass()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void UnpublishInteractionClass::InitAsDefaultInstance() {
+}
+
+UnpublishInteractionClass::UnpublishInteractionClass(const UnpublishInteractionClass& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void UnpublishInteractionClass::SharedCtor() {
+  _cached_size_ = 0;
+  interactionclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+UnpublishInteractionClass::~UnpublishInteractionClass() {
+  SharedDtor();
+}
+
+void UnpublishInteractionClass::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void UnpublishInteractionClass::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* UnpublishInteractionClass::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return UnpublishInteractionClass_descriptor_;
+}
+
+const UnpublishInteractionClass& UnpublishInteractionClass::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+UnpublishInteractionClass* UnpublishInteractionClass::default_instance_ = NULL;
+
+UnpublishInteractionClass* UnpublishInteractionClass::New() const {
+  return new UnpublishInteractionClass;
+}
+
+void UnpublishInteractionClass::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    interactionclasshandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool UnpublishInteractionClass::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 interactionClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &interactionclasshandle_)));
+          set_has_interactionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void UnpublishInteractionClass::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->interactionclasshandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* UnpublishInteractionClass::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->interactionclasshandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int UnpublishInteractionClass::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 interactionClassHandle = 1;
+    if (has_interactionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->interactionclasshandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void UnpublishInteractionClass::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const UnpublishInteractionClass* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const UnpublishInteractionClass*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void UnpublishInteractionClass::MergeFrom(const UnpublishInteractionClass& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_interactionclasshandle()) {
+      set_interactionclasshandle(from.interactionclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void UnpublishInteractionClass::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void UnpublishInteractionClass::CopyFrom(const UnpublishInteractionClass& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool UnpublishInteractionClass::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void UnpublishInteractionClass::Swap(UnpublishInteractionClass* other) {
+  if (other != this) {
+    std::swap(interactionclasshandle_, other->interactionclasshandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata UnpublishInteractionClass::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = UnpublishInteractionClass_descriptor_;
+  metadata.reflection = UnpublishInteractionClass_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int SubscribeObjectClassAttributes::kObjectClassHandleFieldNumber;
+const int SubscribeObjectClassAttributes::kAttributeHandlesFieldNumber;
+const int SubscribeObjectClassAttributes::kPassiveFieldNumber;
+const int SubscribeObjectClassAttributes::kUpdateRateDesignatorFieldNumber;
+#endif  // !_MSC_VER
+
+SubscribeObjectClassAttributes::SubscribeObjectClassAttributes()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void SubscribeObjectClassAttributes::InitAsDefaultInstance() {
+}
+
+SubscribeObjectClassAttributes::SubscribeObjectClassAttributes(const SubscribeObjectClassAttributes& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void SubscribeObjectClassAttributes::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  passive_ = false;
+  updateratedesignator_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+SubscribeObjectClassAttributes::~SubscribeObjectClassAttributes() {
+  SharedDtor();
+}
+
+void SubscribeObjectClassAttributes::SharedDtor() {
+  if (updateratedesignator_ != &::google::protobuf::internal::kEmptyString) {
+    delete updateratedesignator_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void SubscribeObjectClassAttributes::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* SubscribeObjectClassAttributes::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return SubscribeObjectClassAttributes_descriptor_;
+}
+
+const SubscribeObjectClassAttributes& SubscribeObjectClassAttributes::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+SubscribeObjectClassAttributes* SubscribeObjectClassAttributes::default_instance_ = NULL;
+
+SubscribeObjectClassAttributes* SubscribeObjectClassAttributes::New() const {
+  return new SubscribeObjectClassAttributes;
+}
+
+void SubscribeObjectClassAttributes::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+    passive_ = false;
+    if (has_updateratedesignator()) {
+      if (updateratedesignator_ != &::google::protobuf::internal::kEmptyString) {
+        updateratedesignator_->clear();
+      }
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool SubscribeObjectClassAttributes::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectTag(24)) goto parse_passive;
+        break;
+      }
+
+      // required bool passive = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_passive:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &passive_)));
+          set_has_passive();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_updateRateDesignator;
+        break;
+      }
+
+      // optional string updateRateDesignator = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_updateRateDesignator:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_updateratedesignator()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->updateratedesignator().data(), this->updateratedesignator().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void SubscribeObjectClassAttributes::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  // required bool passive = 3;
+  if (has_passive()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(3, this->passive(), output);
+  }
+
+  // optional string updateRateDesignator = 4;
+  if (has_updateratedesignator()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->updateratedesignator().data(), this->updateratedesignator().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      4, this->updateratedesignator(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* SubscribeObjectClassAttributes::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  // required bool passive = 3;
+  if (has_passive()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(3, this->passive(), target);
+  }
+
+  // optional string updateRateDesignator = 4;
+  if (has_updateratedesignator()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->updateratedesignator().data(), this->updateratedesignator().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        4, this->updateratedesignator(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int SubscribeObjectClassAttributes::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+    // required bool passive = 3;
+    if (has_passive()) {
+      total_size += 1 + 1;
+    }
+
+    // optional string updateRateDesignator = 4;
+    if (has_updateratedesignator()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->updateratedesignator());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void SubscribeObjectClassAttributes::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const SubscribeObjectClassAttributes* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const SubscribeObjectClassAttributes*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void SubscribeObjectClassAttributes::MergeFrom(const SubscribeObjectClassAttributes& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+    if (from.has_passive()) {
+      set_passive(from.passive());
+    }
+    if (from.has_updateratedesignator()) {
+      set_updateratedesignator(from.updateratedesignator());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void SubscribeObjectClassAttributes::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void SubscribeObjectClassAttributes::CopyFrom(const SubscribeObjectClassAttributes& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool SubscribeObjectClassAttributes::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000005) != 0x00000005) return false;
+
+  return true;
+}
+
+void SubscribeObjectClassAttributes::Swap(SubscribeObjectClassAttributes* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(passive_, other->passive_);
+    std::swap(updateratedesignator_, other->updateratedesignator_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata SubscribeObjectClassAttributes::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = SubscribeObjectClassAttributes_descriptor_;
+  metadata.reflection = SubscribeObjectClassAttributes_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int UnsubscribeObjectClassAttributes::kObjectClassHandleFieldNumber;
+const int UnsubscribeObjectClassAttributes::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+UnsubscribeObjectClassAttributes::UnsubscribeObjectClassAttributes()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void UnsubscribeObjectClassAttributes::InitAsDefaultInstance() {
+}
+
+UnsubscribeObjectClassAttributes::UnsubscribeObjectClassAttributes(const UnsubscribeObjectClassAttributes& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void UnsubscribeObjectClassAttributes::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+UnsubscribeObjectClassAttributes::~UnsubscribeObjectClassAttributes() {
+  SharedDtor();
+}
+
+void UnsubscribeObjectClassAttributes::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void UnsubscribeObjectClassAttributes::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* UnsubscribeObjectClassAttributes::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return UnsubscribeObjectClassAttributes_descriptor_;
+}
+
+const UnsubscribeObjectClassAttributes& UnsubscribeObjectClassAttributes::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+UnsubscribeObjectClassAttributes* UnsubscribeObjectClassAttributes::default_instance_ = NULL;
+
+UnsubscribeObjectClassAttributes* UnsubscribeObjectClassAttributes::New() const {
+  return new UnsubscribeObjectClassAttributes;
+}
+
+void UnsubscribeObjectClassAttributes::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool UnsubscribeObjectClassAttributes::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void UnsubscribeObjectClassAttributes::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* UnsubscribeObjectClassAttributes::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int UnsubscribeObjectClassAttributes::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void UnsubscribeObjectClassAttributes::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const UnsubscribeObjectClassAttributes* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const UnsubscribeObjectClassAttributes*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void UnsubscribeObjectClassAttributes::MergeFrom(const UnsubscribeObjectClassAttributes& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void UnsubscribeObjectClassAttributes::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void UnsubscribeObjectClassAttributes::CopyFrom(const UnsubscribeObjectClassAttributes& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool UnsubscribeObjectClassAttributes::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void UnsubscribeObjectClassAttributes::Swap(UnsubscribeObjectClassAttributes* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata UnsubscribeObjectClassAttributes::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = UnsubscribeObjectClassAttributes_descriptor_;
+  metadata.reflection = UnsubscribeObjectClassAttributes_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int SubscribeInteractionClass::kInteractionClassHandleFieldNumber;
+const int SubscribeInteractionClass::kPassiveFieldNumber;
+#endif  // !_MSC_VER
+
+SubscribeInteractionClass::SubscribeInteractionClass()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void SubscribeInteractionClass::InitAsDefaultInstance() {
+}
+
+SubscribeInteractionClass::SubscribeInteractionClass(const SubscribeInteractionClass& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void SubscribeInteractionClass::SharedCtor() {
+  _cached_size_ = 0;
+  interactionclasshandle_ = 0u;
+  passive_ = false;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+SubscribeInteractionClass::~SubscribeInteractionClass() {
+  SharedDtor();
+}
+
+void SubscribeInteractionClass::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void SubscribeInteractionClass::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* SubscribeInteractionClass::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return SubscribeInteractionClass_descriptor_;
+}
+
+const SubscribeInteractionClass& SubscribeInteractionClass::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+SubscribeInteractionClass* SubscribeInteractionClass::default_instance_ = NULL;
+
+SubscribeInteractionClass* SubscribeInteractionClass::New() const {
+  return new SubscribeInteractionClass;
+}
+
+void SubscribeInteractionClass::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    interactionclasshandle_ = 0u;
+    passive_ = false;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool SubscribeInteractionClass::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 interactionClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &interactionclasshandle_)));
+          set_has_interactionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_passive;
+        break;
+      }
+
+      // required bool passive = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_passive:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &passive_)));
+          set_has_passive();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void SubscribeInteractionClass::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->interactionclasshandle(), output);
+  }
+
+  // required bool passive = 2;
+  if (has_passive()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(2, this->passive(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* SubscribeInteractionClass::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->interactionclasshandle(), target);
+  }
+
+  // required bool passive = 2;
+  if (has_passive()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(2, this->passive(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int SubscribeInteractionClass::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 interactionClassHandle = 1;
+    if (has_interactionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->interactionclasshandle());
+    }
+
+    // required bool passive = 2;
+    if (has_passive()) {
+      total_size += 1 + 1;
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void SubscribeInteractionClass::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const SubscribeInteractionClass* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const SubscribeInteractionClass*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void SubscribeInteractionClass::MergeFrom(const SubscribeInteractionClass& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_interactionclasshandle()) {
+      set_interactionclasshandle(from.interactionclasshandle());
+    }
+    if (from.has_passive()) {
+      set_passive(from.passive());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void SubscribeInteractionClass::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void SubscribeInteractionClass::CopyFrom(const SubscribeInteractionClass& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool SubscribeInteractionClass::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void SubscribeInteractionClass::Swap(SubscribeInteractionClass* other) {
+  if (other != this) {
+    std::swap(interactionclasshandle_, other->interactionclasshandle_);
+    std::swap(passive_, other->passive_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata SubscribeInteractionClass::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = SubscribeInteractionClass_descriptor_;
+  metadata.reflection = SubscribeInteractionClass_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int UnsubscribeInteractionClass::kInteractionClassHandleFieldNumber;
+#endif  // !_MSC_VER
+
+UnsubscribeInteractionClass::UnsubscribeInteractionClass()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void UnsubscribeInteractionClass::InitAsDefaultInstance() {
+}
+
+UnsubscribeInteractionClass::UnsubscribeInteractionClass(const UnsubscribeInteractionClass& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void UnsubscribeInteractionClass::SharedCtor() {
+  _cached_size_ = 0;
+  interactionclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+UnsubscribeInteractionClass::~UnsubscribeInteractionClass() {
+  SharedDtor();
+}
+
+void UnsubscribeInteractionClass::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void UnsubscribeInteractionClass::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* UnsubscribeInteractionClass::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return UnsubscribeInteractionClass_descriptor_;
+}
+
+const UnsubscribeInteractionClass& UnsubscribeInteractionClass::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+UnsubscribeInteractionClass* UnsubscribeInteractionClass::default_instance_ = NULL;
+
+UnsubscribeInteractionClass* UnsubscribeInteractionClass::New() const {
+  return new UnsubscribeInteractionClass;
+}
+
+void UnsubscribeInteractionClass::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    interactionclasshandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool UnsubscribeInteractionClass::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 interactionClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &interactionclasshandle_)));
+          set_has_interactionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void UnsubscribeInteractionClass::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->interactionclasshandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* UnsubscribeInteractionClass::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->interactionclasshandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int UnsubscribeInteractionClass::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 interactionClassHandle = 1;
+    if (has_interactionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->interactionclasshandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void UnsubscribeInteractionClass::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const UnsubscribeInteractionClass* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const UnsubscribeInteractionClass*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void UnsubscribeInteractionClass::MergeFrom(const UnsubscribeInteractionClass& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_interactionclasshandle()) {
+      set_interactionclasshandle(from.interactionclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void UnsubscribeInteractionClass::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void UnsubscribeInteractionClass::CopyFrom(const UnsubscribeInteractionClass& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool UnsubscribeInteractionClass::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void UnsubscribeInteractionClass::Swap(UnsubscribeInteractionClass* other) {
+  if (other != this) {
+    std::swap(interactionclasshandle_, other->interactionclasshandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata UnsubscribeInteractionClass::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = UnsubscribeInteractionClass_descriptor_;
+  metadata.reflection = UnsubscribeInteractionClass_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ReserveObjectInstanceName::kObjectInstanceNameFieldNumber;
+#endif  // !_MSC_VER
+
+ReserveObjectInstanceName::ReserveObjectInstanceName()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ReserveObjectInstanceName::InitAsDefaultInstance() {
+}
+
+ReserveObjectInstanceName::ReserveObjectInstanceName(const ReserveObjectInstanceName& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ReserveObjectInstanceName::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ReserveObjectInstanceName::~ReserveObjectInstanceName() {
+  SharedDtor();
+}
+
+void ReserveObjectInstanceName::SharedDtor() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void ReserveObjectInstanceName::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ReserveObjectInstanceName::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ReserveObjectInstanceName_descriptor_;
+}
+
+const ReserveObjectInstanceName& ReserveObjectInstanceName::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ReserveObjectInstanceName* ReserveObjectInstanceName::default_instance_ = NULL;
+
+ReserveObjectInstanceName* ReserveObjectInstanceName::New() const {
+  return new ReserveObjectInstanceName;
+}
+
+void ReserveObjectInstanceName::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancename()) {
+      if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+        objectinstancename_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ReserveObjectInstanceName::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string objectInstanceName = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_objectinstancename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancename().data(), this->objectinstancename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ReserveObjectInstanceName::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string objectInstanceName = 1;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->objectinstancename(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ReserveObjectInstanceName::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string objectInstanceName = 1;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->objectinstancename(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ReserveObjectInstanceName::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string objectInstanceName = 1;
+    if (has_objectinstancename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->objectinstancename());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ReserveObjectInstanceName::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ReserveObjectInstanceName* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ReserveObjectInstanceName*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ReserveObjectInstanceName::MergeFrom(const ReserveObjectInstanceName& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancename()) {
+      set_objectinstancename(from.objectinstancename());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ReserveObjectInstanceName::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ReserveObjectInstanceName::CopyFrom(const ReserveObjectInstanceName& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ReserveObjectInstanceName::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void ReserveObjectInstanceName::Swap(ReserveObjectInstanceName* other) {
+  if (other != this) {
+    std::swap(objectinstancename_, other->objectinstancename_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ReserveObjectInstanceName::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ReserveObjectInstanceName_descriptor_;
+  metadata.reflection = ReserveObjectInstanceName_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ReleaseObjectInstanceName::kObjectInstanceNameFieldNumber;
+#endif  // !_MSC_VER
+
+ReleaseObjectInstanceName::ReleaseObjectInstanceName()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ReleaseObjectInstanceName::InitAsDefaultInstance() {
+}
+
+ReleaseObjectInstanceName::ReleaseObjectInstanceName(const ReleaseObjectInstanceName& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ReleaseObjectInstanceName::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ReleaseObjectInstanceName::~ReleaseObjectInstanceName() {
+  SharedDtor();
+}
+
+void ReleaseObjectInstanceName::SharedDtor() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void ReleaseObjectInstanceName::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ReleaseObjectInstanceName::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ReleaseObjectInstanceName_descriptor_;
+}
+
+const ReleaseObjectInstanceName& ReleaseObjectInstanceName::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ReleaseObjectInstanceName* ReleaseObjectInstanceName::default_instance_ = NULL;
+
+ReleaseObjectInstanceName* ReleaseObjectInstanceName::New() const {
+  return new ReleaseObjectInstanceName;
+}
+
+void ReleaseObjectInstanceName::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancename()) {
+      if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+        objectinstancename_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ReleaseObjectInstanceName::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string objectInstanceName = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_objectinstancename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancename().data(), this->objectinstancename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ReleaseObjectInstanceName::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string objectInstanceName = 1;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->objectinstancename(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ReleaseObjectInstanceName::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string objectInstanceName = 1;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->objectinstancename(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ReleaseObjectInstanceName::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string objectInstanceName = 1;
+    if (has_objectinstancename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->objectinstancename());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ReleaseObjectInstanceName::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ReleaseObjectInstanceName* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ReleaseObjectInstanceName*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ReleaseObjectInstanceName::MergeFrom(const ReleaseObjectInstanceName& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancename()) {
+      set_objectinstancename(from.objectinstancename());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ReleaseObjectInstanceName::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ReleaseObjectInstanceName::CopyFrom(const ReleaseObjectInstanceName& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ReleaseObjectInstanceName::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void ReleaseObjectInstanceName::Swap(ReleaseObjectInstanceName* other) {
+  if (other != this) {
+    std::swap(objectinstancename_, other->objectinstancename_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ReleaseObjectInstanceName::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ReleaseObjectInstanceName_descriptor_;
+  metadata.reflection = ReleaseObjectInstanceName_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ReserveMultipleObjectInstanceName::kObjectInstanceNamesFieldNumber;
+#endif  // !_MSC_VER
+
+ReserveMultipleObjectInstanceName::ReserveMultipleObjectInstanceName()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ReserveMultipleObjectInstanceName::InitAsDefaultInstance() {
+}
+
+ReserveMultipleObjectInstanceName::ReserveMultipleObjectInstanceName(const ReserveMultipleObjectInstanceName& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ReserveMultipleObjectInstanceName::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ReserveMultipleObjectInstanceName::~ReserveMultipleObjectInstanceName() {
+  SharedDtor();
+}
+
+void ReserveMultipleObjectInstanceName::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void ReserveMultipleObjectInstanceName::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ReserveMultipleObjectInstanceName::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ReserveMultipleObjectInstanceName_descriptor_;
+}
+
+const ReserveMultipleObjectInstanceName& ReserveMultipleObjectInstanceName::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ReserveMultipleObjectInstanceName* ReserveMultipleObjectInstanceName::default_instance_ = NULL;
+
+ReserveMultipleObjectInstanceName* ReserveMultipleObjectInstanceName::New() const {
+  return new ReserveMultipleObjectInstanceName;
+}
+
+void ReserveMultipleObjectInstanceName::Clear() {
+  objectinstancenames_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ReserveMultipleObjectInstanceName::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated string objectInstanceNames = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceNames:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_objectinstancenames()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancenames(this->objectinstancenames_size() - 1).data(),
+            this->objectinstancenames(this->objectinstancenames_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_objectInstanceNames;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ReserveMultipleObjectInstanceName::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated string objectInstanceNames = 1;
+  for (int i = 0; i < this->objectinstancenames_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->objectinstancenames(i).data(), this->objectinstancenames(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->objectinstancenames(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ReserveMultipleObjectInstanceName::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated string objectInstanceNames = 1;
+  for (int i = 0; i < this->objectinstancenames_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancenames(i).data(), this->objectinstancenames(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(1, this->objectinstancenames(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ReserveMultipleObjectInstanceName::ByteSize() const {
+  int total_size = 0;
+
+  // repeated string objectInstanceNames = 1;
+  total_size += 1 * this->objectinstancenames_size();
+  for (int i = 0; i < this->objectinstancenames_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->objectinstancenames(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ReserveMultipleObjectInstanceName::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ReserveMultipleObjectInstanceName* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ReserveMultipleObjectInstanceName*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ReserveMultipleObjectInstanceName::MergeFrom(const ReserveMultipleObjectInstanceName& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  objectinstancenames_.MergeFrom(from.objectinstancenames_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ReserveMultipleObjectInstanceName::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ReserveMultipleObjectInstanceName::CopyFrom(const ReserveMultipleObjectInstanceName& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ReserveMultipleObjectInstanceName::IsInitialized() const {
+
+  return true;
+}
+
+void ReserveMultipleObjectInstanceName::Swap(ReserveMultipleObjectInstanceName* other) {
+  if (other != this) {
+    objectinstancenames_.Swap(&other->objectinstancenames_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ReserveMultipleObjectInstanceName::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ReserveMultipleObjectInstanceName_descriptor_;
+  metadata.reflection = ReserveMultipleObjectInstanceName_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ReleaseMultipleObjectInstanceName::kObjectInstanceNamesFieldNumber;
+#endif  // !_MSC_VER
+
+ReleaseMultipleObjectInstanceName::ReleaseMultipleObjectInstanceName()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ReleaseMultipleObjectInstanceName::InitAsDefaultInstance() {
+}
+
+ReleaseMultipleObjectInstanceName::ReleaseMultipleObjectInstanceName(const ReleaseMultipleObjectInstanceName& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ReleaseMultipleObjectInstanceName::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ReleaseMultipleObjectInstanceName::~ReleaseMultipleObjectInstanceName() {
+  SharedDtor();
+}
+
+void ReleaseMultipleObjectInstanceName::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void ReleaseMultipleObjectInstanceName::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ReleaseMultipleObjectInstanceName::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ReleaseMultipleObjectInstanceName_descriptor_;
+}
+
+const ReleaseMultipleObjectInstanceName& ReleaseMultipleObjectInstanceName::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ReleaseMultipleObjectInstanceName* ReleaseMultipleObjectInstanceName::default_instance_ = NULL;
+
+ReleaseMultipleObjectInstanceName* ReleaseMultipleObjectInstanceName::New() const {
+  return new ReleaseMultipleObjectInstanceName;
+}
+
+void ReleaseMultipleObjectInstanceName::Clear() {
+  objectinstancenames_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ReleaseMultipleObjectInstanceName::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated string objectInstanceNames = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceNames:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_objectinstancenames()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancenames(this->objectinstancenames_size() - 1).data(),
+            this->objectinstancenames(this->objectinstancenames_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_objectInstanceNames;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ReleaseMultipleObjectInstanceName::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated string objectInstanceNames = 1;
+  for (int i = 0; i < this->objectinstancenames_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->objectinstancenames(i).data(), this->objectinstancenames(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->objectinstancenames(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ReleaseMultipleObjectInstanceName::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated string objectInstanceNames = 1;
+  for (int i = 0; i < this->objectinstancenames_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancenames(i).data(), this->objectinstancenames(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(1, this->objectinstancenames(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ReleaseMultipleObjectInstanceName::ByteSize() const {
+  int total_size = 0;
+
+  // repeated string objectInstanceNames = 1;
+  total_size += 1 * this->objectinstancenames_size();
+  for (int i = 0; i < this->objectinstancenames_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->objectinstancenames(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ReleaseMultipleObjectInstanceName::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ReleaseMultipleObjectInstanceName* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ReleaseMultipleObjectInstanceName*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ReleaseMultipleObjectInstanceName::MergeFrom(const ReleaseMultipleObjectInstanceName& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  objectinstancenames_.MergeFrom(from.objectinstancenames_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ReleaseMultipleObjectInstanceName::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ReleaseMultipleObjectInstanceName::CopyFrom(const ReleaseMultipleObjectInstanceName& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ReleaseMultipleObjectInstanceName::IsInitialized() const {
+
+  return true;
+}
+
+void ReleaseMultipleObjectInstanceName::Swap(ReleaseMultipleObjectInstanceName* other) {
+  if (other != this) {
+    objectinstancenames_.Swap(&other->objectinstancenames_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ReleaseMultipleObjectInstanceName::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ReleaseMultipleObjectInstanceName_descriptor_;
+  metadata.reflection = ReleaseMultipleObjectInstanceName_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AttributeRegionAssociation::kAttributeHandlesFieldNumber;
+const int AttributeRegionAssociation::kRegionHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+AttributeRegionAssociation::AttributeRegionAssociation()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AttributeRegionAssociation::InitAsDefaultInstance() {
+}
+
+AttributeRegionAssociation::AttributeRegionAssociation(const AttributeRegionAssociation& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AttributeRegionAssociation::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AttributeRegionAssociation::~AttributeRegionAssociation() {
+  SharedDtor();
+}
+
+void AttributeRegionAssociation::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void AttributeRegionAssociation::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AttributeRegionAssociation::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AttributeRegionAssociation_descriptor_;
+}
+
+const AttributeRegionAssociation& AttributeRegionAssociation::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AttributeRegionAssociation* AttributeRegionAssociation::default_instance_ = NULL;
+
+AttributeRegionAssociation* AttributeRegionAssociation::New() const {
+  return new AttributeRegionAssociation;
+}
+
+void AttributeRegionAssociation::Clear() {
+  attributehandles_.Clear();
+  regionhandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AttributeRegionAssociation::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated uint32 attributeHandles = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 8, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(8)) goto parse_attributeHandles;
+        if (input->ExpectTag(18)) goto parse_regionHandles;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_regionHandles:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_regionhandles()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_regionHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AttributeRegionAssociation::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated uint32 attributeHandles = 1;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      1, this->attributehandles(i), output);
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+  for (int i = 0; i < this->regionhandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->regionhandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AttributeRegionAssociation::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated uint32 attributeHandles = 1;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(1, this->attributehandles(i), target);
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+  for (int i = 0; i < this->regionhandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->regionhandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AttributeRegionAssociation::ByteSize() const {
+  int total_size = 0;
+
+  // repeated uint32 attributeHandles = 1;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+  total_size += 1 * this->regionhandles_size();
+  for (int i = 0; i < this->regionhandles_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->regionhandles(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AttributeRegionAssociation::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AttributeRegionAssociation* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AttributeRegionAssociation*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AttributeRegionAssociation::MergeFrom(const AttributeRegionAssociation& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  regionhandles_.MergeFrom(from.regionhandles_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AttributeRegionAssociation::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AttributeRegionAssociation::CopyFrom(const AttributeRegionAssociation& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AttributeRegionAssociation::IsInitialized() const {
+
+  for (int i = 0; i < regionhandles_size(); i++) {
+    if (!this->regionhandles(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AttributeRegionAssociation::Swap(AttributeRegionAssociation* other) {
+  if (other != this) {
+    attributehandles_.Swap(&other->attributehandles_);
+    regionhandles_.Swap(&other->regionhandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AttributeRegionAssociation::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AttributeRegionAssociation_descriptor_;
+  metadata.reflection = AttributeRegionAssociation_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RegisterObjectInstance::kObjectInstanceHandleFieldNumber;
+const int RegisterObjectInstance::kObjectClassHandleFieldNumber;
+const int RegisterObjectInstance::kObjectInstanceNameFieldNumber;
+const int RegisterObjectInstance::kPublishedAttributeHandlesFieldNumber;
+const int RegisterObjectInstance::kAttributeRegionAssociationsFieldNumber;
+#endif  // !_MSC_VER
+
+RegisterObjectInstance::RegisterObjectInstance()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RegisterObjectInstance::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+RegisterObjectInstance::RegisterObjectInstance(const RegisterObjectInstance& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RegisterObjectInstance::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  objectclasshandle_ = 0u;
+  objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RegisterObjectInstance::~RegisterObjectInstance() {
+  SharedDtor();
+}
+
+void RegisterObjectInstance::SharedDtor() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void RegisterObjectInstance::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RegisterObjectInstance::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RegisterObjectInstance_descriptor_;
+}
+
+const RegisterObjectInstance& RegisterObjectInstance::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RegisterObjectInstance* RegisterObjectInstance::default_instance_ = NULL;
+
+RegisterObjectInstance* RegisterObjectInstance::New() const {
+  return new RegisterObjectInstance;
+}
+
+void RegisterObjectInstance::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    objectclasshandle_ = 0u;
+    if (has_objectinstancename()) {
+      if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+        objectinstancename_->clear();
+      }
+    }
+  }
+  publishedattributehandles_.Clear();
+  attributeregionassociations_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RegisterObjectInstance::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_objectClassHandle;
+        break;
+      }
+
+      // required uint32 objectClassHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_objectClassHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_objectInstanceName;
+        break;
+      }
+
+      // required string objectInstanceName = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_objectinstancename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancename().data(), this->objectinstancename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_publishedAttributeHandles;
+        break;
+      }
+
+      // repeated uint32 publishedAttributeHandles = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_publishedAttributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 32, input, this->mutable_publishedattributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_publishedattributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_publishedAttributeHandles;
+        if (input->ExpectTag(42)) goto parse_attributeRegionAssociations;
+        break;
+      }
+
+      // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_attributeRegionAssociations:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_attributeregionassociations()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(42)) goto parse_attributeRegionAssociations;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RegisterObjectInstance::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // required uint32 objectClassHandle = 2;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->objectclasshandle(), output);
+  }
+
+  // required string objectInstanceName = 3;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      3, this->objectinstancename(), output);
+  }
+
+  // repeated uint32 publishedAttributeHandles = 4;
+  for (int i = 0; i < this->publishedattributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      4, this->publishedattributehandles(i), output);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 5;
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      5, this->attributeregionassociations(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RegisterObjectInstance::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // required uint32 objectClassHandle = 2;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->objectclasshandle(), target);
+  }
+
+  // required string objectInstanceName = 3;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        3, this->objectinstancename(), target);
+  }
+
+  // repeated uint32 publishedAttributeHandles = 4;
+  for (int i = 0; i < this->publishedattributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(4, this->publishedattributehandles(i), target);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 5;
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        5, this->attributeregionassociations(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RegisterObjectInstance::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // required uint32 objectClassHandle = 2;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+    // required string objectInstanceName = 3;
+    if (has_objectinstancename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->objectinstancename());
+    }
+
+  }
+  // repeated uint32 publishedAttributeHandles = 4;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->publishedattributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->publishedattributehandles(i));
+    }
+    total_size += 1 * this->publishedattributehandles_size() + data_size;
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 5;
+  total_size += 1 * this->attributeregionassociations_size();
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->attributeregionassociations(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RegisterObjectInstance::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RegisterObjectInstance* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RegisterObjectInstance*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RegisterObjectInstance::MergeFrom(const RegisterObjectInstance& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  publishedattributehandles_.MergeFrom(from.publishedattributehandles_);
+  attributeregionassociations_.MergeFrom(from.attributeregionassociations_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+    if (from.has_objectinstancename()) {
+      set_objectinstancename(from.objectinstancename());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RegisterObjectInstance::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RegisterObjectInstance::CopyFrom(const RegisterObjectInstance& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RegisterObjectInstance::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000007) != 0x00000007) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < attributeregionassociations_size(); i++) {
+    if (!this->attributeregionassociations(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void RegisterObjectInstance::Swap(RegisterObjectInstance* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    std::swap(objectinstancename_, other->objectinstancename_);
+    publishedattributehandles_.Swap(&other->publishedattributehandles_);
+    attributeregionassociations_.Swap(&other->attributeregionassociations_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RegisterObjectInstance::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RegisterObjectInstance_descriptor_;
+  metadata.reflection = RegisterObjectInstance_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RegisterObjectInstanceWithRegions::kObjectInstanceHandleFieldNumber;
+const int RegisterObjectInstanceWithRegions::kObjectClassHandleFieldNumber;
+const int RegisterObjectInstanceWithRegions::kObjectInstanceNameFieldNumber;
+const int RegisterObjectInstanceWithRegions::kPublishedAttributeHandlesFieldNumber;
+const int RegisterObjectInstanceWithRegions::kAttributeRegionAssociationsFieldNumber;
+#endif  // !_MSC_VER
+
+RegisterObjectInstanceWithRegions::RegisterObjectInstanceWithRegions()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RegisterObjectInstanceWithRegions::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+RegisterObjectInstanceWithRegions::RegisterObjectInstanceWithRegions(const RegisterObjectInstanceWithRegions& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RegisterObjectInstanceWithRegions::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  objectclasshandle_ = 0u;
+  objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RegisterObjectInstanceWithRegions::~RegisterObjectInstanceWithRegions() {
+  SharedDtor();
+}
+
+void RegisterObjectInstanceWithRegions::SharedDtor() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void RegisterObjectInstanceWithRegions::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RegisterObjectInstanceWithRegions::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RegisterObjectInstanceWithRegions_descriptor_;
+}
+
+const RegisterObjectInstanceWithRegions& RegisterObjectInstanceWithRegions::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RegisterObjectInstanceWithRegions* RegisterObjectInstanceWithRegions::default_instance_ = NULL;
+
+RegisterObjectInstanceWithRegions* RegisterObjectInstanceWithRegions::New() const {
+  return new RegisterObjectInstanceWithRegions;
+}
+
+void RegisterObjectInstanceWithRegions::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    objectclasshandle_ = 0u;
+    if (has_objectinstancename()) {
+      if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+        objectinstancename_->clear();
+      }
+    }
+  }
+  publishedattributehandles_.Clear();
+  attributeregionassociations_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RegisterObjectInstanceWithRegions::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_objectClassHandle;
+        break;
+      }
+
+      // required uint32 objectClassHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_objectClassHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_objectInstanceName;
+        break;
+      }
+
+      // optional string objectInstanceName = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_objectinstancename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancename().data(), this->objectinstancename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_publishedAttributeHandles;
+        break;
+      }
+
+      // repeated uint32 publishedAttributeHandles = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_publishedAttributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 32, input, this->mutable_publishedattributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_publishedattributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_publishedAttributeHandles;
+        if (input->ExpectTag(42)) goto parse_attributeRegionAssociations;
+        break;
+      }
+
+      // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_attributeRegionAssociations:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_attributeregionassociations()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(42)) goto parse_attributeRegionAssociations;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RegisterObjectInstanceWithRegions::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // required uint32 objectClassHandle = 2;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->objectclasshandle(), output);
+  }
+
+  // optional string objectInstanceName = 3;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      3, this->objectinstancename(), output);
+  }
+
+  // repeated uint32 publishedAttributeHandles = 4;
+  for (int i = 0; i < this->publishedattributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      4, this->publishedattributehandles(i), output);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 5;
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      5, this->attributeregionassociations(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RegisterObjectInstanceWithRegions::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // required uint32 objectClassHandle = 2;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->objectclasshandle(), target);
+  }
+
+  // optional string objectInstanceName = 3;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        3, this->objectinstancename(), target);
+  }
+
+  // repeated uint32 publishedAttributeHandles = 4;
+  for (int i = 0; i < this->publishedattributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(4, this->publishedattributehandles(i), target);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 5;
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        5, this->attributeregionassociations(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RegisterObjectInstanceWithRegions::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // required uint32 objectClassHandle = 2;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+    // optional string objectInstanceName = 3;
+    if (has_objectinstancename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->objectinstancename());
+    }
+
+  }
+  // repeated uint32 publishedAttributeHandles = 4;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->publishedattributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->publishedattributehandles(i));
+    }
+    total_size += 1 * this->publishedattributehandles_size() + data_size;
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 5;
+  total_size += 1 * this->attributeregionassociations_size();
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->attributeregionassociations(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RegisterObjectInstanceWithRegions::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RegisterObjectInstanceWithRegions* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RegisterObjectInstanceWithRegions*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RegisterObjectInstanceWithRegions::MergeFrom(const RegisterObjectInstanceWithRegions& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  publishedattributehandles_.MergeFrom(from.publishedattributehandles_);
+  attributeregionassociations_.MergeFrom(from.attributeregionassociations_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+    if (from.has_objectinstancename()) {
+      set_objectinstancename(from.objectinstancename());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RegisterObjectInstanceWithRegions::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RegisterObjectInstanceWithRegions::CopyFrom(const RegisterObjectInstanceWithRegions& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RegisterObjectInstanceWithRegions::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < attributeregionassociations_size(); i++) {
+    if (!this->attributeregionassociations(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void RegisterObjectInstanceWithRegions::Swap(RegisterObjectInstanceWithRegions* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    std::swap(objectinstancename_, other->objectinstancename_);
+    publishedattributehandles_.Swap(&other->publishedattributehandles_);
+    attributeregionassociations_.Swap(&other->attributeregionassociations_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RegisterObjectInstanceWithRegions::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RegisterObjectInstanceWithRegions_descriptor_;
+  metadata.reflection = RegisterObjectInstanceWithRegions_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int UpdateAttributeValues::kObjectInstanceHandleFieldNumber;
+const int UpdateAttributeValues::kAttributeValuesFieldNumber;
+const int UpdateAttributeValues::kTagFieldNumber;
+const int UpdateAttributeValues::kSentOrderTypeFieldNumber;
+const int UpdateAttributeValues::kTransportationTypeHandleFieldNumber;
+const int UpdateAttributeValues::kTimeFieldNumber;
+const int UpdateAttributeValues::kMessageRetractionHandleFieldNumber;
+#endif  // !_MSC_VER
+
+UpdateAttributeValues::UpdateAttributeValues()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void UpdateAttributeValues::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+  messageretractionhandle_ = const_cast< ::ohla::rti::proto::MessageRetractionHandle*>(&::ohla::rti::proto::MessageRetractionHandle::default_instance());
+}
+
+UpdateAttributeValues::UpdateAttributeValues(const UpdateAttributeValues& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void UpdateAttributeValues::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  sentordertype_ = 1;
+  transportationtypehandle_ = 0u;
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  messageretractionhandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+UpdateAttributeValues::~UpdateAttributeValues() {
+  SharedDtor();
+}
+
+void UpdateAttributeValues::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+    delete messageretractionhandle_;
+  }
+}
+
+void UpdateAttributeValues::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* UpdateAttributeValues::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return UpdateAttributeValues_descriptor_;
+}
+
+const UpdateAttributeValues& UpdateAttributeValues::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+UpdateAttributeValues* UpdateAttributeValues::default_instance_ = NULL;
+
+UpdateAttributeValues* UpdateAttributeValues::New() const {
+  return new UpdateAttributeValues;
+}
+
+void UpdateAttributeValues::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+    sentordertype_ = 1;
+    transportationtypehandle_ = 0u;
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+    if (has_messageretractionhandle()) {
+      if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+    }
+  }
+  attributevalues_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool UpdateAttributeValues::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_attributeValues;
+        break;
+      }
+
+      // repeated .ohla.rti.messages.proto.AttributeValue attributeValues = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_attributeValues:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_attributevalues()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_attributeValues;
+        if (input->ExpectTag(26)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_sentOrderType;
+        break;
+      }
+
+      // optional .ohla.rti.proto.OrderType sentOrderType = 4 [default = RECEIVE];
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_sentOrderType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::OrderType_IsValid(value)) {
+            set_sentordertype(static_cast< ::ohla::rti::proto::OrderType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(4, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(40)) goto parse_transportationTypeHandle;
+        break;
+      }
+
+      // required uint32 transportationTypeHandle = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_transportationTypeHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &transportationtypehandle_)));
+          set_has_transportationtypehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(50)) goto parse_time;
+        break;
+      }
+
+      // optional bytes time = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_time:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(58)) goto parse_messageRetractionHandle;
+        break;
+      }
+
+      // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 7;
+      case 7: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_messageRetractionHandle:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_messageretractionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void UpdateAttributeValues::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeValue attributeValues = 2;
+  for (int i = 0; i < this->attributevalues_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->attributevalues(i), output);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->tag(), output);
+  }
+
+  // optional .ohla.rti.proto.OrderType sentOrderType = 4 [default = RECEIVE];
+  if (has_sentordertype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      4, this->sentordertype(), output);
+  }
+
+  // required uint32 transportationTypeHandle = 5;
+  if (has_transportationtypehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(5, this->transportationtypehandle(), output);
+  }
+
+  // optional bytes time = 6;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      6, this->time(), output);
+  }
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 7;
+  if (has_messageretractionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      7, this->messageretractionhandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* UpdateAttributeValues::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeValue attributeValues = 2;
+  for (int i = 0; i < this->attributevalues_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->attributevalues(i), target);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->tag(), target);
+  }
+
+  // optional .ohla.rti.proto.OrderType sentOrderType = 4 [default = RECEIVE];
+  if (has_sentordertype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      4, this->sentordertype(), target);
+  }
+
+  // required uint32 transportationTypeHandle = 5;
+  if (has_transportationtypehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(5, this->transportationtypehandle(), target);
+  }
+
+  // optional bytes time = 6;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        6, this->time(), target);
+  }
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 7;
+  if (has_messageretractionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        7, this->messageretractionhandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int UpdateAttributeValues::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // optional bytes tag = 3;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+    // optional .ohla.rti.proto.OrderType sentOrderType = 4 [default = RECEIVE];
+    if (has_sentordertype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->sentordertype());
+    }
+
+    // required uint32 transportationTypeHandle = 5;
+    if (has_transportationtypehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->transportationtypehandle());
+    }
+
+    // optional bytes time = 6;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+    // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 7;
+    if (has_messageretractionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->messageretractionhandle());
+    }
+
+  }
+  // repeated .ohla.rti.messages.proto.AttributeValue attributeValues = 2;
+  total_size += 1 * this->attributevalues_size();
+  for (int i = 0; i < this->attributevalues_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->attributevalues(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void UpdateAttributeValues::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const UpdateAttributeValues* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const UpdateAttributeValues*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void UpdateAttributeValues::MergeFrom(const UpdateAttributeValues& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributevalues_.MergeFrom(from.attributevalues_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+    if (from.has_sentordertype()) {
+      set_sentordertype(from.sentordertype());
+    }
+    if (from.has_transportationtypehandle()) {
+      set_transportationtypehandle(from.transportationtypehandle());
+    }
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+    if (from.has_messageretractionhandle()) {
+      mutable_messageretractionhandle()->::ohla::rti::proto::MessageRetractionHandle::MergeFrom(from.messageretractionhandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void UpdateAttributeValues::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void UpdateAttributeValues::CopyFrom(const UpdateAttributeValues& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool UpdateAttributeValues::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000011) != 0x00000011) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < attributevalues_size(); i++) {
+    if (!this->attributevalues(i).IsInitialized()) return false;
+  }
+  if (has_messageretractionhandle()) {
+    if (!this->messageretractionhandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void UpdateAttributeValues::Swap(UpdateAttributeValues* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributevalues_.Swap(&other->attributevalues_);
+    std::swap(tag_, other->tag_);
+    std::swap(sentordertype_, other->sentordertype_);
+    std::swap(transportationtypehandle_, other->transportationtypehandle_);
+    std::swap(time_, other->time_);
+    std::swap(messageretractionhandle_, other->messageretractionhandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata UpdateAttributeValues::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = UpdateAttributeValues_descriptor_;
+  metadata.reflection = UpdateAttributeValues_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int SendInteraction::kInteractionClassHandleFieldNumber;
+const int SendInteraction::kParameterValuesFieldNumber;
+const int SendInteraction::kTagFieldNumber;
+const int SendInteraction::kSentOrderTypeFieldNumber;
+const int SendInteraction::kTransportationTypeHandleFieldNumber;
+const int SendInteraction::kTimeFieldNumber;
+const int SendInteraction::kMessageRetractionHandleFieldNumber;
+const int SendInteraction::kSentRegionHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+SendInteraction::SendInteraction()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void SendInteraction::InitAsDefaultInstance() {
+  messageretractionhandle_ = const_cast< ::ohla::rti::proto::MessageRetractionHandle*>(&::ohla::rti::proto::MessageRetractionHandle::default_instance());
+}
+
+SendInteraction::SendInteraction(const SendInteraction& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void SendInteraction::SharedCtor() {
+  _cached_size_ = 0;
+  interactionclasshandle_ = 0u;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  sentordertype_ = 1;
+  transportationtypehandle_ = 0u;
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  messageretractionhandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+SendInteraction::~SendInteraction() {
+  SharedDtor();
+}
+
+void SendInteraction::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+    delete messageretractionhandle_;
+  }
+}
+
+void SendInteraction::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* SendInteraction::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return SendInteraction_descriptor_;
+}
+
+const SendInteraction& SendInteraction::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+SendInteraction* SendInteraction::default_instance_ = NULL;
+
+SendInteraction* SendInteraction::New() const {
+  return new SendInteraction;
+}
+
+void SendInteraction::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    interactionclasshandle_ = 0u;
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+    sentordertype_ = 1;
+    transportationtypehandle_ = 0u;
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+    if (has_messageretractionhandle()) {
+      if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+    }
+  }
+  parametervalues_.Clear();
+  sentregionhandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool SendInteraction::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 interactionClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &interactionclasshandle_)));
+          set_has_interactionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_parameterValues;
+        break;
+      }
+
+      // repeated .ohla.rti.messages.proto.ParameterValue parameterValues = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_parameterValues:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_parametervalues()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_parameterValues;
+        if (input->ExpectTag(26)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_sentOrderType;
+        break;
+      }
+
+      // optional .ohla.rti.proto.OrderType sentOrderType = 4 [default = RECEIVE];
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_sentOrderType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::OrderType_IsValid(value)) {
+            set_sentordertype(static_cast< ::ohla::rti::proto::OrderType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(4, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(40)) goto parse_transportationTypeHandle;
+        break;
+      }
+
+      // required uint32 transportationTypeHandle = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_transportationTypeHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &transportationtypehandle_)));
+          set_has_transportationtypehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(50)) goto parse_time;
+        break;
+      }
+
+      // optional bytes time = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_time:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(58)) goto parse_messageRetractionHandle;
+        break;
+      }
+
+      // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 7;
+      case 7: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_messageRetractionHandle:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_messageretractionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(66)) goto parse_sentRegionHandles;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.RegionHandle sentRegionHandles = 8;
+      case 8: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_sentRegionHandles:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_sentregionhandles()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(66)) goto parse_sentRegionHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void SendInteraction::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->interactionclasshandle(), output);
+  }
+
+  // repeated .ohla.rti.messages.proto.ParameterValue parameterValues = 2;
+  for (int i = 0; i < this->parametervalues_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->parametervalues(i), output);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->tag(), output);
+  }
+
+  // optional .ohla.rti.proto.OrderType sentOrderType = 4 [default = RECEIVE];
+  if (has_sentordertype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      4, this->sentordertype(), output);
+  }
+
+  // required uint32 transportationTypeHandle = 5;
+  if (has_transportationtypehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(5, this->transportationtypehandle(), output);
+  }
+
+  // optional bytes time = 6;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      6, this->time(), output);
+  }
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 7;
+  if (has_messageretractionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      7, this->messageretractionhandle(), output);
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle sentRegionHandles = 8;
+  for (int i = 0; i < this->sentregionhandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      8, this->sentregionhandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* SendInteraction::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->interactionclasshandle(), target);
+  }
+
+  // repeated .ohla.rti.messages.proto.ParameterValue parameterValues = 2;
+  for (int i = 0; i < this->parametervalues_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->parametervalues(i), target);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->tag(), target);
+  }
+
+  // optional .ohla.rti.proto.OrderType sentOrderType = 4 [default = RECEIVE];
+  if (has_sentordertype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      4, this->sentordertype(), target);
+  }
+
+  // required uint32 transportationTypeHandle = 5;
+  if (has_transportationtypehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(5, this->transportationtypehandle(), target);
+  }
+
+  // optional bytes time = 6;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        6, this->time(), target);
+  }
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 7;
+  if (has_messageretractionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        7, this->messageretractionhandle(), target);
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle sentRegionHandles = 8;
+  for (int i = 0; i < this->sentregionhandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        8, this->sentregionhandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int SendInteraction::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 interactionClassHandle = 1;
+    if (has_interactionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->interactionclasshandle());
+    }
+
+    // optional bytes tag = 3;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+    // optional .ohla.rti.proto.OrderType sentOrderType = 4 [default = RECEIVE];
+    if (has_sentordertype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->sentordertype());
+    }
+
+    // required uint32 transportationTypeHandle = 5;
+    if (has_transportationtypehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->transportationtypehandle());
+    }
+
+    // optional bytes time = 6;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+    // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 7;
+    if (has_messageretractionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->messageretractionhandle());
+    }
+
+  }
+  // repeated .ohla.rti.messages.proto.ParameterValue parameterValues = 2;
+  total_size += 1 * this->parametervalues_size();
+  for (int i = 0; i < this->parametervalues_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->parametervalues(i));
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle sentRegionHandles = 8;
+  total_size += 1 * this->sentregionhandles_size();
+  for (int i = 0; i < this->sentregionhandles_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->sentregionhandles(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void SendInteraction::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const SendInteraction* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const SendInteraction*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void SendInteraction::MergeFrom(const SendInteraction& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  parametervalues_.MergeFrom(from.parametervalues_);
+  sentregionhandles_.MergeFrom(from.sentregionhandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_interactionclasshandle()) {
+      set_interactionclasshandle(from.interactionclasshandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+    if (from.has_sentordertype()) {
+      set_sentordertype(from.sentordertype());
+    }
+    if (from.has_transportationtypehandle()) {
+      set_transportationtypehandle(from.transportationtypehandle());
+    }
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+    if (from.has_messageretractionhandle()) {
+      mutable_messageretractionhandle()->::ohla::rti::proto::MessageRetractionHandle::MergeFrom(from.messageretractionhandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void SendInteraction::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void SendInteraction::CopyFrom(const SendInteraction& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool SendInteraction::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000011) != 0x00000011) return false;
+
+  for (int i = 0; i < parametervalues_size(); i++) {
+    if (!this->parametervalues(i).IsInitialized()) return false;
+  }
+  if (has_messageretractionhandle()) {
+    if (!this->messageretractionhandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < sentregionhandles_size(); i++) {
+    if (!this->sentregionhandles(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void SendInteraction::Swap(SendInteraction* other) {
+  if (other != this) {
+    std::swap(interactionclasshandle_, other->interactionclasshandle_);
+    parametervalues_.Swap(&other->parametervalues_);
+    std::swap(tag_, other->tag_);
+    std::swap(sentordertype_, other->sentordertype_);
+    std::swap(transportationtypehandle_, other->transportationtypehandle_);
+    std::swap(time_, other->time_);
+    std::swap(messageretractionhandle_, other->messageretractionhandle_);
+    sentregionhandles_.Swap(&other->sentregionhandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata SendInteraction::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = SendInteraction_descriptor_;
+  metadata.reflection = SendInteraction_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int DeleteObjectInstance::kObjectInstanceHandleFieldNumber;
+const int DeleteObjectInstance::kTagFieldNumber;
+const int DeleteObjectInstance::kSentOrderTypeFieldNumber;
+const int DeleteObjectInstance::kTimeFieldNumber;
+const int DeleteObjectInstance::kMessageRetractionHandleFieldNumber;
+#endif  // !_MSC_VER
+
+DeleteObjectInstance::DeleteObjectInstance()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void DeleteObjectInstance::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+  messageretractionhandle_ = const_cast< ::ohla::rti::proto::MessageRetractionHandle*>(&::ohla::rti::proto::MessageRetractionHandle::default_instance());
+}
+
+DeleteObjectInstance::DeleteObjectInstance(const DeleteObjectInstance& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void DeleteObjectInstance::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  sentordertype_ = 1;
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  messageretractionhandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+DeleteObjectInstance::~DeleteObjectInstance() {
+  SharedDtor();
+}
+
+void DeleteObjectInstance::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+    delete messageretractionhandle_;
+  }
+}
+
+void DeleteObjectInstance::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* DeleteObjectInstance::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return DeleteObjectInstance_descriptor_;
+}
+
+const DeleteObjectInstance& DeleteObjectInstance::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+DeleteObjectInstance* DeleteObjectInstance::default_instance_ = NULL;
+
+DeleteObjectInstance* DeleteObjectInstance::New() const {
+  return new DeleteObjectInstance;
+}
+
+void DeleteObjectInstance::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+    sentordertype_ = 1;
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+    if (has_messageretractionhandle()) {
+      if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool DeleteObjectInstance::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_sentOrderType;
+        break;
+      }
+
+      // optional .ohla.rti.proto.OrderType sentOrderType = 3 [default = RECEIVE];
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_sentOrderType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::OrderType_IsValid(value)) {
+            set_sentordertype(static_cast< ::ohla::rti::proto::OrderType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(3, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_time;
+        break;
+      }
+
+      // optional bytes time = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_time:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(42)) goto parse_messageRetractionHandle;
+        break;
+      }
+
+      // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_messageRetractionHandle:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_messageretractionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void DeleteObjectInstance::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // optional bytes tag = 2;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      2, this->tag(), output);
+  }
+
+  // optional .ohla.rti.proto.OrderType sentOrderType = 3 [default = RECEIVE];
+  if (has_sentordertype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      3, this->sentordertype(), output);
+  }
+
+  // optional bytes time = 4;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      4, this->time(), output);
+  }
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 5;
+  if (has_messageretractionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      5, this->messageretractionhandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* DeleteObjectInstance::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // optional bytes tag = 2;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        2, this->tag(), target);
+  }
+
+  // optional .ohla.rti.proto.OrderType sentOrderType = 3 [default = RECEIVE];
+  if (has_sentordertype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      3, this->sentordertype(), target);
+  }
+
+  // optional bytes time = 4;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        4, this->time(), target);
+  }
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 5;
+  if (has_messageretractionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        5, this->messageretractionhandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int DeleteObjectInstance::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // optional bytes tag = 2;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+    // optional .ohla.rti.proto.OrderType sentOrderType = 3 [default = RECEIVE];
+    if (has_sentordertype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->sentordertype());
+    }
+
+    // optional bytes time = 4;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+    // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 5;
+    if (has_messageretractionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->messageretractionhandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void DeleteObjectInstance::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const DeleteObjectInstance* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const DeleteObjectInstance*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void DeleteObjectInstance::MergeFrom(const DeleteObjectInstance& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+    if (from.has_sentordertype()) {
+      set_sentordertype(from.sentordertype());
+    }
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+    if (from.has_messageretractionhandle()) {
+      mutable_messageretractionhandle()->::ohla::rti::proto::MessageRetractionHandle::MergeFrom(from.messageretractionhandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void DeleteObjectInstance::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void DeleteObjectInstance::CopyFrom(const DeleteObjectInstance& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool DeleteObjectInstance::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  if (has_messageretractionhandle()) {
+    if (!this->messageretractionhandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void DeleteObjectInstance::Swap(DeleteObjectInstance* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(tag_, other->tag_);
+    std::swap(sentordertype_, other->sentordertype_);
+    std::swap(time_, other->time_);
+    std::swap(messageretractionhandle_, other->messageretractionhandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata DeleteObjectInstance::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = DeleteObjectInstance_descriptor_;
+  metadata.reflection = DeleteObjectInstance_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int LocalDeleteObjectInstance::kObjectInstanceHandleFieldNumber;
+#endif  // !_MSC_VER
+
+LocalDeleteObjectInstance::LocalDeleteObjectInstance()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void LocalDeleteObjectInstance::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+LocalDeleteObjectInstance::LocalDeleteObjectInstance(const LocalDeleteObjectInstance& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void LocalDeleteObjectInstance::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+LocalDeleteObjectInstance::~LocalDeleteObjectInstance() {
+  SharedDtor();
+}
+
+void LocalDeleteObjectInstance::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void LocalDeleteObjectInstance::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* LocalDeleteObjectInstance::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return LocalDeleteObjectInstance_descriptor_;
+}
+
+const LocalDeleteObjectInstance& LocalDeleteObjectInstance::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+LocalDeleteObjectInstance* LocalDeleteObjectInstance::default_instance_ = NULL;
+
+LocalDeleteObjectInstance* LocalDeleteObjectInstance::New() const {
+  return new LocalDeleteObjectInstance;
+}
+
+void LocalDeleteObjectInstance::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool LocalDeleteObjectInstance::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void LocalDeleteObjectInstance::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* LocalDeleteObjectInstance::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int LocalDeleteObjectInstance::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void LocalDeleteObjectInstance::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const LocalDeleteObjectInstance* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const LocalDeleteObjectInstance*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void LocalDeleteObjectInstance::MergeFrom(const LocalDeleteObjectInstance& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void LocalDeleteObjectInstance::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void LocalDeleteObjectInstance::CopyFrom(const LocalDeleteObjectInstance& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool LocalDeleteObjectInstance::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void LocalDeleteObjectInstance::Swap(LocalDeleteObjectInstance* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata LocalDeleteObjectInstance::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = LocalDeleteObjectInstance_descriptor_;
+  metadata.reflection = LocalDeleteObjectInstance_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RequestObjectInstanceAttributeValueUpdate::kObjectInstanceHandleFieldNumber;
+const int RequestObjectInstanceAttributeValueUpdate::kAttributeHandlesFieldNumber;
+const int RequestObjectInstanceAttributeValueUpdate::kTagFieldNumber;
+#endif  // !_MSC_VER
+
+RequestObjectInstanceAttributeValueUpdate::RequestObjectInstanceAttributeValueUpdate()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestObjectInstanceAttributeValueUpdate::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+RequestObjectInstanceAttributeValueUpdate::RequestObjectInstanceAttributeValueUpdate(const RequestObjectInstanceAttributeValueUpdate& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestObjectInstanceAttributeValueUpdate::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestObjectInstanceAttributeValueUpdate::~RequestObjectInstanceAttributeValueUpdate() {
+  SharedDtor();
+}
+
+void RequestObjectInstanceAttributeValueUpdate::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void RequestObjectInstanceAttributeValueUpdate::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestObjectInstanceAttributeValueUpdate::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestObjectInstanceAttributeValueUpdate_descriptor_;
+}
+
+const RequestObjectInstanceAttributeValueUpdate& RequestObjectInstanceAttributeValueUpdate::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestObjectInstanceAttributeValueUpdate* RequestObjectInstanceAttributeValueUpdate::default_instance_ = NULL;
+
+RequestObjectInstanceAttributeValueUpdate* RequestObjectInstanceAttributeValueUpdate::New() const {
+  return new RequestObjectInstanceAttributeValueUpdate;
+}
+
+void RequestObjectInstanceAttributeValueUpdate::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestObjectInstanceAttributeValueUpdate::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectTag(26)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestObjectInstanceAttributeValueUpdate::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->tag(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestObjectInstanceAttributeValueUpdate::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->tag(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestObjectInstanceAttributeValueUpdate::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // optional bytes tag = 3;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestObjectInstanceAttributeValueUpdate::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestObjectInstanceAttributeValueUpdate* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestObjectInstanceAttributeValueUpdate*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestObjectInstanceAttributeValueUpdate::MergeFrom(const RequestObjectInstanceAttributeValueUpdate& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestObjectInstanceAttributeValueUpdate::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestObjectInstanceAttributeValueUpdate::CopyFrom(const RequestObjectInstanceAttributeValueUpdate& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestObjectInstanceAttributeValueUpdate::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void RequestObjectInstanceAttributeValueUpdate::Swap(RequestObjectInstanceAttributeValueUpdate* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(tag_, other->tag_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestObjectInstanceAttributeValueUpdate::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestObjectInstanceAttributeValueUpdate_descriptor_;
+  metadata.reflection = RequestObjectInstanceAttributeValueUpdate_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RequestObjectClassAttributeValueUpdate::kObjectClassHandleFieldNumber;
+const int RequestObjectClassAttributeValueUpdate::kAttributeHandlesFieldNumber;
+const int RequestObjectClassAttributeValueUpdate::kTagFieldNumber;
+#endif  // !_MSC_VER
+
+RequestObjectClassAttributeValueUpdate::RequestObjectClassAttributeValueUpdate()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestObjectClassAttributeValueUpdate::InitAsDefaultInstance() {
+}
+
+RequestObjectClassAttributeValueUpdate::RequestObjectClassAttributeValueUpdate(const RequestObjectClassAttributeValueUpdate& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestObjectClassAttributeValueUpdate::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestObjectClassAttributeValueUpdate::~RequestObjectClassAttributeValueUpdate() {
+  SharedDtor();
+}
+
+void RequestObjectClassAttributeValueUpdate::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void RequestObjectClassAttributeValueUpdate::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestObjectClassAttributeValueUpdate::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestObjectClassAttributeValueUpdate_descriptor_;
+}
+
+const RequestObjectClassAttributeValueUpdate& RequestObjectClassAttributeValueUpdate::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestObjectClassAttributeValueUpdate* RequestObjectClassAttributeValueUpdate::default_instance_ = NULL;
+
+RequestObjectClassAttributeValueUpdate* RequestObjectClassAttributeValueUpdate::New() const {
+  return new RequestObjectClassAttributeValueUpdate;
+}
+
+void RequestObjectClassAttributeValueUpdate::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestObjectClassAttributeValueUpdate::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectTag(26)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestObjectClassAttributeValueUpdate::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->tag(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestObjectClassAttributeValueUpdate::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->tag(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestObjectClassAttributeValueUpdate::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+    // optional bytes tag = 3;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestObjectClassAttributeValueUpdate::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestObjectClassAttributeValueUpdate* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestObjectClassAttributeValueUpdate*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestObjectClassAttributeValueUpdate::MergeFrom(const RequestObjectClassAttributeValueUpdate& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestObjectClassAttributeValueUpdate::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestObjectClassAttributeValueUpdate::CopyFrom(const RequestObjectClassAttributeValueUpdate& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestObjectClassAttributeValueUpdate::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void RequestObjectClassAttributeValueUpdate::Swap(RequestObjectClassAttributeValueUpdate* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(tag_, other->tag_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestObjectClassAttributeValueUpdate::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestObjectClassAttributeValueUpdate_descriptor_;
+  metadata.reflection = RequestObjectClassAttributeValueUpdate_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RequestObjectClassAttributeValueUpdateWithRegions::kObjectClassHandleFieldNumber;
+const int RequestObjectClassAttributeValueUpdateWithRegions::kAttributeRegionAssociationsFieldNumber;
+const int RequestObjectClassAttributeValueUpdateWithRegions::kTagFieldNumber;
+#endif  // !_MSC_VER
+
+RequestObjectClassAttributeValueUpdateWithRegions::RequestObjectClassAttributeValueUpdateWithRegions()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RequestObjectClassAttributeValueUpdateWithRegions::InitAsDefaultInstance() {
+}
+
+RequestObjectClassAttributeValueUpdateWithRegions::RequestObjectClassAttributeValueUpdateWithRegions(const RequestObjectClassAttributeValueUpdateWithRegions& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RequestObjectClassAttributeValueUpdateWithRegions::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RequestObjectClassAttributeValueUpdateWithRegions::~RequestObjectClassAttributeValueUpdateWithRegions() {
+  SharedDtor();
+}
+
+void RequestObjectClassAttributeValueUpdateWithRegions::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void RequestObjectClassAttributeValueUpdateWithRegions::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RequestObjectClassAttributeValueUpdateWithRegions::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RequestObjectClassAttributeValueUpdateWithRegions_descriptor_;
+}
+
+const RequestObjectClassAttributeValueUpdateWithRegions& RequestObjectClassAttributeValueUpdateWithRegions::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+RequestObjectClassAttributeValueUpdateWithRegions* RequestObjectClassAttributeValueUpdateWithRegions::default_instance_ = NULL;
+
+RequestObjectClassAttributeValueUpdateWithRegions* RequestObjectClassAttributeValueUpdateWithRegions::New() const {
+  return new RequestObjectClassAttributeValueUpdateWithRegions;
+}
+
+void RequestObjectClassAttributeValueUpdateWithRegions::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+  }
+  attributeregionassociations_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RequestObjectClassAttributeValueUpdateWithRegions::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_attributeRegionAssociations;
+        break;
+      }
+
+      // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_attributeRegionAssociations:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_attributeregionassociations()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_attributeRegionAssociations;
+        if (input->ExpectTag(26)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RequestObjectClassAttributeValueUpdateWithRegions::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->attributeregionassociations(i), output);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->tag(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RequestObjectClassAttributeValueUpdateWithRegions::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->attributeregionassociations(i), target);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->tag(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RequestObjectClassAttributeValueUpdateWithRegions::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+    // optional bytes tag = 3;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+  }
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+  total_size += 1 * this->attributeregionassociations_size();
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->attributeregionassociations(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RequestObjectClassAttributeValueUpdateWithRegions::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RequestObjectClassAttributeValueUpdateWithRegions* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RequestObjectClassAttributeValueUpdateWithRegions*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RequestObjectClassAttributeValueUpdateWithRegions::MergeFrom(const RequestObjectClassAttributeValueUpdateWithRegions& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributeregionassociations_.MergeFrom(from.attributeregionassociations_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RequestObjectClassAttributeValueUpdateWithRegions::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RequestObjectClassAttributeValueUpdateWithRegions::CopyFrom(const RequestObjectClassAttributeValueUpdateWithRegions& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RequestObjectClassAttributeValueUpdateWithRegions::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  for (int i = 0; i < attributeregionassociations_size(); i++) {
+    if (!this->attributeregionassociations(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void RequestObjectClassAttributeValueUpdateWithRegions::Swap(RequestObjectClassAttributeValueUpdateWithRegions* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    attributeregionassociations_.Swap(&other->attributeregionassociations_);
+    std::swap(tag_, other->tag_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RequestObjectClassAttributeValueUpdateWithRegions::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RequestObjectClassAttributeValueUpdateWithRegions_descriptor_;
+  metadata.reflection = RequestObjectClassAttributeValueUpdateWithRegions_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int SetAutomaticResignDirective::kResignActionFieldNumber;
+#endif  // !_MSC_VER
+
+SetAutomaticResignDirective::SetAutomaticResignDirective()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void SetAutomaticResignDirective::InitAsDefaultInstance() {
+}
+
+SetAutomaticResignDirective::SetAutomaticResignDirective(const SetAutomaticResignDirective& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void SetAutomaticResignDirective::SharedCtor() {
+  _cached_size_ = 0;
+  resignaction_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+SetAutomaticResignDirective::~SetAutomaticResignDirective() {
+  SharedDtor();
+}
+
+void SetAutomaticResignDirective::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void SetAutomaticResignDirective::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* SetAutomaticResignDirective::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return SetAutomaticResignDirective_descriptor_;
+}
+
+const SetAutomaticResignDirective& SetAutomaticResignDirective::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+SetAutomaticResignDirective* SetAutomaticResignDirective::default_instance_ = NULL;
+
+SetAutomaticResignDirective* SetAutomaticResignDirective::New() const {
+  return new SetAutomaticResignDirective;
+}
+
+void SetAutomaticResignDirective::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    resignaction_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool SetAutomaticResignDirective::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ResignAction resignAction = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::ResignAction_IsValid(value)) {
+            set_resignaction(static_cast< ::ohla::rti::proto::ResignAction >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void SetAutomaticResignDirective::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ResignAction resignAction = 1;
+  if (has_resignaction()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->resignaction(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* SetAutomaticResignDirective::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ResignAction resignAction = 1;
+  if (has_resignaction()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->resignaction(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int SetAutomaticResignDirective::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ResignAction resignAction = 1;
+    if (has_resignaction()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->resignaction());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void SetAutomaticResignDirective::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const SetAutomaticResignDirective* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const SetAutomaticResignDirective*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void SetAutomaticResignDirective::MergeFrom(const SetAutomaticResignDirective& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_resignaction()) {
+      set_resignaction(from.resignaction());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void SetAutomaticResignDirective::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void SetAutomaticResignDirective::CopyFrom(const SetAutomaticResignDirective& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool SetAutomaticResignDirective::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void SetAutomaticResignDirective::Swap(SetAutomaticResignDirective* other) {
+  if (other != this) {
+    std::swap(resignaction_, other->resignaction_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata SetAutomaticResignDirective::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = SetAutomaticResignDirective_descriptor_;
+  metadata.reflection = SetAutomaticResignDirective_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int GetFederateHandle::kRequestIdFieldNumber;
+const int GetFederateHandle::kFederateNameFieldNumber;
+#endif  // !_MSC_VER
+
+GetFederateHandle::GetFederateHandle()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void GetFederateHandle::InitAsDefaultInstance() {
+}
+
+GetFederateHandle::GetFederateHandle(const GetFederateHandle& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void GetFederateHandle::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+GetFederateHandle::~GetFederateHandle() {
+  SharedDtor();
+}
+
+void GetFederateHandle::SharedDtor() {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatename_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void GetFederateHandle::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* GetFederateHandle::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetFederateHandle_descriptor_;
+}
+
+const GetFederateHandle& GetFederateHandle::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+GetFederateHandle* GetFederateHandle::default_instance_ = NULL;
+
+GetFederateHandle* GetFederateHandle::New() const {
+  return new GetFederateHandle;
+}
+
+void GetFederateHandle::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_federatename()) {
+      if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+        federatename_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool GetFederateHandle::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_federateName;
+        break;
+      }
+
+      // required string federateName = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_federateName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_federatename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->federatename().data(), this->federatename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void GetFederateHandle::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // required string federateName = 2;
+  if (has_federatename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatename().data(), this->federatename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->federatename(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* GetFederateHandle::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // required string federateName = 2;
+  if (has_federatename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatename().data(), this->federatename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->federatename(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int GetFederateHandle::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // required string federateName = 2;
+    if (has_federatename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->federatename());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void GetFederateHandle::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const GetFederateHandle* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const GetFederateHandle*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void GetFederateHandle::MergeFrom(const GetFederateHandle& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_federatename()) {
+      set_federatename(from.federatename());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void GetFederateHandle::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void GetFederateHandle::CopyFrom(const GetFederateHandle& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool GetFederateHandle::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void GetFederateHandle::Swap(GetFederateHandle* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(federatename_, other->federatename_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata GetFederateHandle::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = GetFederateHandle_descriptor_;
+  metadata.reflection = GetFederateHandle_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int GetFederateName::kRequestIdFieldNumber;
+const int GetFederateName::kFederateHandleFieldNumber;
+#endif  // !_MSC_VER
+
+GetFederateName::GetFederateName()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void GetFederateName::InitAsDefaultInstance() {
+}
+
+GetFederateName::GetFederateName(const GetFederateName& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void GetFederateName::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  federatehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+GetFederateName::~GetFederateName() {
+  SharedDtor();
+}
+
+void GetFederateName::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void GetFederateName::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* GetFederateName::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetFederateName_descriptor_;
+}
+
+const GetFederateName& GetFederateName::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+GetFederateName* GetFederateName::default_instance_ = NULL;
+
+GetFederateName* GetFederateName::New() const {
+  return new GetFederateName;
+}
+
+void GetFederateName::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    federatehandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool GetFederateName::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_federateHandle;
+        break;
+      }
+
+      // required uint32 federateHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_federateHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatehandle_)));
+          set_has_federatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void GetFederateName::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // required uint32 federateHandle = 2;
+  if (has_federatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->federatehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* GetFederateName::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // required uint32 federateHandle = 2;
+  if (has_federatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->federatehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int GetFederateName::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // required uint32 federateHandle = 2;
+    if (has_federatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void GetFederateName::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const GetFederateName* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const GetFederateName*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void GetFederateName::MergeFrom(const GetFederateName& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_federatehandle()) {
+      set_federatehandle(from.federatehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void GetFederateName::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void GetFederateName::CopyFrom(const GetFederateName& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool GetFederateName::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void GetFederateName::Swap(GetFederateName* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(federatehandle_, other->federatehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata GetFederateName::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = GetFederateName_descriptor_;
+  metadata.reflection = GetFederateName_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int GetUpdateRateValueForAttribute::kRequestIdFieldNumber;
+const int GetUpdateRateValueForAttribute::kObjectInstanceHandleFieldNumber;
+const int GetUpdateRateValueForAttribute::kAttributeHandleFieldNumber;
+#endif  // !_MSC_VER
+
+GetUpdateRateValueForAttribute::GetUpdateRateValueForAttribute()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void GetUpdateRateValueForAttribute::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+GetUpdateRateValueForAttribute::GetUpdateRateValueForAttribute(const GetUpdateRateValueForAttribute& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void GetUpdateRateValueForAttribute::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  objectinstancehandle_ = NULL;
+  attributehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+GetUpdateRateValueForAttribute::~GetUpdateRateValueForAttribute() {
+  SharedDtor();
+}
+
+void GetUpdateRateValueForAttribute::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void GetUpdateRateValueForAttribute::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* GetUpdateRateValueForAttribute::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return GetUpdateRateValueForAttribute_descriptor_;
+}
+
+const GetUpdateRateValueForAttribute& GetUpdateRateValueForAttribute::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+GetUpdateRateValueForAttribute* GetUpdateRateValueForAttribute::default_instance_ = NULL;
+
+GetUpdateRateValueForAttribute* GetUpdateRateValueForAttribute::New() const {
+  return new GetUpdateRateValueForAttribute;
+}
+
+void GetUpdateRateValueForAttribute::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    attributehandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool GetUpdateRateValueForAttribute::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_objectInstanceHandle;
+        break;
+      }
+
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceHandle:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_attributeHandle;
+        break;
+      }
+
+      // required uint32 attributeHandle = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &attributehandle_)));
+          set_has_attributehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void GetUpdateRateValueForAttribute::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->objectinstancehandle(), output);
+  }
+
+  // required uint32 attributeHandle = 3;
+  if (has_attributehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(3, this->attributehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* GetUpdateRateValueForAttribute::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->objectinstancehandle(), target);
+  }
+
+  // required uint32 attributeHandle = 3;
+  if (has_attributehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(3, this->attributehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int GetUpdateRateValueForAttribute::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // required uint32 attributeHandle = 3;
+    if (has_attributehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->attributehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void GetUpdateRateValueForAttribute::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const GetUpdateRateValueForAttribute* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const GetUpdateRateValueForAttribute*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void GetUpdateRateValueForAttribute::MergeFrom(const GetUpdateRateValueForAttribute& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_attributehandle()) {
+      set_attributehandle(from.attributehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void GetUpdateRateValueForAttribute::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void GetUpdateRateValueForAttribute::CopyFrom(const GetUpdateRateValueForAttribute& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool GetUpdateRateValueForAttribute::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000007) != 0x00000007) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void GetUpdateRateValueForAttribute::Swap(GetUpdateRateValueForAttribute* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(attributehandle_, other->attributehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata GetUpdateRateValueForAttribute::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = GetUpdateRateValueForAttribute_descriptor_;
+  metadata.reflection = GetUpdateRateValueForAttribute_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int QueryInteractionTransportationType::kInteractionClassHandleFieldNumber;
+const int QueryInteractionTransportationType::kFederateHandleFieldNumber;
+#endif  // !_MSC_VER
+
+QueryInteractionTransportationType::QueryInteractionTransportationType()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void QueryInteractionTransportationType::InitAsDefaultInstance() {
+}
+
+QueryInteractionTransportationType::QueryInteractionTransportationType(const QueryInteractionTransportationType& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void QueryInteractionTransportationType::SharedCtor() {
+  _cached_size_ = 0;
+  interactionclasshandle_ = 0u;
+  federatehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+QueryInteractionTransportationType::~QueryInteractionTransportationType() {
+  SharedDtor();
+}
+
+void QueryInteractionTransportationType::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void QueryInteractionTransportationType::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* QueryInteractionTransportationType::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return QueryInteractionTransportationType_descriptor_;
+}
+
+const QueryInteractionTransportationType& QueryInteractionTransportationType::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+QueryInteractionTransportationType* QueryInteractionTransportationType::default_instance_ = NULL;
+
+QueryInteractionTransportationType* QueryInteractionTransportationType::New() const {
+  return new QueryInteractionTransportationType;
+}
+
+void QueryInteractionTransportationType::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    interactionclasshandle_ = 0u;
+    federatehandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool QueryInteractionTransportationType::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 interactionClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &interactionclasshandle_)));
+          set_has_interactionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_federateHandle;
+        break;
+      }
+
+      // required uint32 federateHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_federateHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatehandle_)));
+          set_has_federatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void QueryInteractionTransportationType::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->interactionclasshandle(), output);
+  }
+
+  // required uint32 federateHandle = 2;
+  if (has_federatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->federatehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* QueryInteractionTransportationType::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->interactionclasshandle(), target);
+  }
+
+  // required uint32 federateHandle = 2;
+  if (has_federatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->federatehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int QueryInteractionTransportationType::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 interactionClassHandle = 1;
+    if (has_interactionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->interactionclasshandle());
+    }
+
+    // required uint32 federateHandle = 2;
+    if (has_federatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void QueryInteractionTransportationType::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const QueryInteractionTransportationType* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const QueryInteractionTransportationType*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void QueryInteractionTransportationType::MergeFrom(const QueryInteractionTransportationType& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_interactionclasshandle()) {
+      set_interactionclasshandle(from.interactionclasshandle());
+    }
+    if (from.has_federatehandle()) {
+      set_federatehandle(from.federatehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void QueryInteractionTransportationType::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void QueryInteractionTransportationType::CopyFrom(const QueryInteractionTransportationType& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool QueryInteractionTransportationType::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void QueryInteractionTransportationType::Swap(QueryInteractionTransportationType* other) {
+  if (other != this) {
+    std::swap(interactionclasshandle_, other->interactionclasshandle_);
+    std::swap(federatehandle_, other->federatehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata QueryInteractionTransportationType::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = QueryInteractionTransportationType_descriptor_;
+  metadata.reflection = QueryInteractionTransportationType_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int UnconditionalAttributeOwnershipDivestiture::kObjectInstanceHandleFieldNumber;
+const int UnconditionalAttributeOwnershipDivestiture::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+UnconditionalAttributeOwnershipDivestiture::UnconditionalAttributeOwnershipDivestiture()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void UnconditionalAttributeOwnershipDivestiture::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+UnconditionalAttributeOwnershipDivestiture::UnconditionalAttributeOwnershipDivestiture(const UnconditionalAttributeOwnershipDivestiture& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void UnconditionalAttributeOwnershipDivestiture::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+UnconditionalAttributeOwnershipDivestiture::~UnconditionalAttributeOwnershipDivestiture() {
+  SharedDtor();
+}
+
+void UnconditionalAttributeOwnershipDivestiture::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void UnconditionalAttributeOwnershipDivestiture::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* UnconditionalAttributeOwnershipDivestiture::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return UnconditionalAttributeOwnershipDivestiture_descriptor_;
+}
+
+const UnconditionalAttributeOwnershipDivestiture& UnconditionalAttributeOwnershipDivestiture::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+UnconditionalAttributeOwnershipDivestiture* UnconditionalAttributeOwnershipDivestiture::default_instance_ = NULL;
+
+UnconditionalAttributeOwnershipDivestiture* UnconditionalAttributeOwnershipDivestiture::New() const {
+  return new UnconditionalAttributeOwnershipDivestiture;
+}
+
+void UnconditionalAttributeOwnershipDivestiture::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool UnconditionalAttributeOwnershipDivestiture::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void UnconditionalAttributeOwnershipDivestiture::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* UnconditionalAttributeOwnershipDivestiture::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int UnconditionalAttributeOwnershipDivestiture::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void UnconditionalAttributeOwnershipDivestiture::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const UnconditionalAttributeOwnershipDivestiture* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const UnconditionalAttributeOwnershipDivestiture*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void UnconditionalAttributeOwnershipDivestiture::MergeFrom(const UnconditionalAttributeOwnershipDivestiture& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void UnconditionalAttributeOwnershipDivestiture::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void UnconditionalAttributeOwnershipDivestiture::CopyFrom(const UnconditionalAttributeOwnershipDivestiture& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool UnconditionalAttributeOwnershipDivestiture::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void UnconditionalAttributeOwnershipDivestiture::Swap(UnconditionalAttributeOwnershipDivestiture* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata UnconditionalAttributeOwnershipDivestiture::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = UnconditionalAttributeOwnershipDivestiture_descriptor_;
+  metadata.reflection = UnconditionalAttributeOwnershipDivestiture_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int NegotiatedAttributeOwnershipDivestiture::kObjectInstanceHandleFieldNumber;
+const int NegotiatedAttributeOwnershipDivestiture::kAttributeHandlesFieldNumber;
+const int NegotiatedAttributeOwnershipDivestiture::kTagFieldNumber;
+#endif  // !_MSC_VER
+
+NegotiatedAttributeOwnershipDivestiture::NegotiatedAttributeOwnershipDivestiture()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void NegotiatedAttributeOwnershipDivestiture::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+NegotiatedAttributeOwnershipDivestiture::NegotiatedAttributeOwnershipDivestiture(const NegotiatedAttributeOwnershipDivestiture& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void NegotiatedAttributeOwnershipDivestiture::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+NegotiatedAttributeOwnershipDivestiture::~NegotiatedAttributeOwnershipDivestiture() {
+  SharedDtor();
+}
+
+void NegotiatedAttributeOwnershipDivestiture::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void NegotiatedAttributeOwnershipDivestiture::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* NegotiatedAttributeOwnershipDivestiture::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return NegotiatedAttributeOwnershipDivestiture_descriptor_;
+}
+
+const NegotiatedAttributeOwnershipDivestiture& NegotiatedAttributeOwnershipDivestiture::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+NegotiatedAttributeOwnershipDivestiture* NegotiatedAttributeOwnershipDivestiture::default_instance_ = NULL;
+
+NegotiatedAttributeOwnershipDivestiture* NegotiatedAttributeOwnershipDivestiture::New() const {
+  return new NegotiatedAttributeOwnershipDivestiture;
+}
+
+void NegotiatedAttributeOwnershipDivestiture::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool NegotiatedAttributeOwnershipDivestiture::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectTag(26)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void NegotiatedAttributeOwnershipDivestiture::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->tag(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* NegotiatedAttributeOwnershipDivestiture::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->tag(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int NegotiatedAttributeOwnershipDivestiture::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // optional bytes tag = 3;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void NegotiatedAttributeOwnershipDivestiture::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const NegotiatedAttributeOwnershipDivestiture* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const NegotiatedAttributeOwnershipDivestiture*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void NegotiatedAttributeOwnershipDivestiture::MergeFrom(const NegotiatedAttributeOwnershipDivestiture& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void NegotiatedAttributeOwnershipDivestiture::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void NegotiatedAttributeOwnershipDivestiture::CopyFrom(const NegotiatedAttributeOwnershipDivestiture& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool NegotiatedAttributeOwnershipDivestiture::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void NegotiatedAttributeOwnershipDivestiture::Swap(NegotiatedAttributeOwnershipDivestiture* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(tag_, other->tag_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata NegotiatedAttributeOwnershipDivestiture::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = NegotiatedAttributeOwnershipDivestiture_descriptor_;
+  metadata.reflection = NegotiatedAttributeOwnershipDivestiture_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ConfirmDivestiture::kObjectInstanceHandleFieldNumber;
+const int ConfirmDivestiture::kAttributeHandlesFieldNumber;
+const int ConfirmDivestiture::kTagFieldNumber;
+#endif  // !_MSC_VER
+
+ConfirmDivestiture::ConfirmDivestiture()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ConfirmDivestiture::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+ConfirmDivestiture::ConfirmDivestiture(const ConfirmDivestiture& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ConfirmDivestiture::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ConfirmDivestiture::~ConfirmDivestiture() {
+  SharedDtor();
+}
+
+void ConfirmDivestiture::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void ConfirmDivestiture::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ConfirmDivestiture::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ConfirmDivestiture_descriptor_;
+}
+
+const ConfirmDivestiture& ConfirmDivestiture::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ConfirmDivestiture* ConfirmDivestiture::default_instance_ = NULL;
+
+ConfirmDivestiture* ConfirmDivestiture::New() const {
+  return new ConfirmDivestiture;
+}
+
+void ConfirmDivestiture::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ConfirmDivestiture::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectTag(26)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ConfirmDivestiture::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->tag(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ConfirmDivestiture::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->tag(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ConfirmDivestiture::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // optional bytes tag = 3;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ConfirmDivestiture::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ConfirmDivestiture* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ConfirmDivestiture*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ConfirmDivestiture::MergeFrom(const ConfirmDivestiture& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ConfirmDivestiture::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ConfirmDivestiture::CopyFrom(const ConfirmDivestiture& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ConfirmDivestiture::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void ConfirmDivestiture::Swap(ConfirmDivestiture* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(tag_, other->tag_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ConfirmDivestiture::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ConfirmDivestiture_descriptor_;
+  metadata.reflection = ConfirmDivestiture_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AttributeOwnershipAcquisition::kObjectInstanceHandleFieldNumber;
+const int AttributeOwnershipAcquisition::kAttributeHandlesFieldNumber;
+const int AttributeOwnershipAcquisition::kTagFieldNumber;
+#endif  // !_MSC_VER
+
+AttributeOwnershipAcquisition::AttributeOwnershipAcquisition()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AttributeOwnershipAcquisition::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+AttributeOwnershipAcquisition::AttributeOwnershipAcquisition(const AttributeOwnershipAcquisition& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AttributeOwnershipAcquisition::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AttributeOwnershipAcquisition::~AttributeOwnershipAcquisition() {
+  SharedDtor();
+}
+
+void AttributeOwnershipAcquisition::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void AttributeOwnershipAcquisition::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AttributeOwnershipAcquisition::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AttributeOwnershipAcquisition_descriptor_;
+}
+
+const AttributeOwnershipAcquisition& AttributeOwnershipAcquisition::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AttributeOwnershipAcquisition* AttributeOwnershipAcquisition::default_instance_ = NULL;
+
+AttributeOwnershipAcquisition* AttributeOwnershipAcquisition::New() const {
+  return new AttributeOwnershipAcquisition;
+}
+
+void AttributeOwnershipAcquisition::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AttributeOwnershipAcquisition::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectTag(26)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AttributeOwnershipAcquisition::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->tag(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AttributeOwnershipAcquisition::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  // optional bytes tag = 3;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->tag(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AttributeOwnershipAcquisition::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // optional bytes tag = 3;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AttributeOwnershipAcquisition::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AttributeOwnershipAcquisition* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AttributeOwnershipAcquisition*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AttributeOwnershipAcquisition::MergeFrom(const AttributeOwnershipAcquisition& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AttributeOwnershipAcquisition::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AttributeOwnershipAcquisition::CopyFrom(const AttributeOwnershipAcquisition& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AttributeOwnershipAcquisition::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AttributeOwnershipAcquisition::Swap(AttributeOwnershipAcquisition* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(tag_, other->tag_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AttributeOwnershipAcquisition::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AttributeOwnershipAcquisition_descriptor_;
+  metadata.reflection = AttributeOwnershipAcquisition_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AttributeOwnershipAcquisitionIfAvailable::kObjectInstanceHandleFieldNumber;
+const int AttributeOwnershipAcquisitionIfAvailable::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+AttributeOwnershipAcquisitionIfAvailable::AttributeOwnershipAcquisitionIfAvailable()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AttributeOwnershipAcquisitionIfAvailable::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+AttributeOwnershipAcquisitionIfAvailable::AttributeOwnershipAcquisitionIfAvailable(const AttributeOwnershipAcquisitionIfAvailable& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AttributeOwnershipAcquisitionIfAvailable::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AttributeOwnershipAcquisitionIfAvailable::~AttributeOwnershipAcquisitionIfAvailable() {
+  SharedDtor();
+}
+
+void AttributeOwnershipAcquisitionIfAvailable::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void AttributeOwnershipAcquisitionIfAvailable::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AttributeOwnershipAcquisitionIfAvailable::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AttributeOwnershipAcquisitionIfAvailable_descriptor_;
+}
+
+const AttributeOwnershipAcquisitionIfAvailable& AttributeOwnershipAcquisitionIfAvailable::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AttributeOwnershipAcquisitionIfAvailable* AttributeOwnershipAcquisitionIfAvailable::default_instance_ = NULL;
+
+AttributeOwnershipAcquisitionIfAvailable* AttributeOwnershipAcquisitionIfAvailable::New() const {
+  return new AttributeOwnershipAcquisitionIfAvailable;
+}
+
+void AttributeOwnershipAcquisitionIfAvailable::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AttributeOwnershipAcquisitionIfAvailable::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AttributeOwnershipAcquisitionIfAvailable::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AttributeOwnershipAcquisitionIfAvailable::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AttributeOwnershipAcquisitionIfAvailable::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AttributeOwnershipAcquisitionIfAvailable::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AttributeOwnershipAcquisitionIfAvailable* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AttributeOwnershipAcquisitionIfAvailable*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AttributeOwnershipAcquisitionIfAvailable::MergeFrom(const AttributeOwnershipAcquisitionIfAvailable& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AttributeOwnershipAcquisitionIfAvailable::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AttributeOwnershipAcquisitionIfAvailable::CopyFrom(const AttributeOwnershipAcquisitionIfAvailable& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AttributeOwnershipAcquisitionIfAvailable::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AttributeOwnershipAcquisitionIfAvailable::Swap(AttributeOwnershipAcquisitionIfAvailable* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AttributeOwnershipAcquisitionIfAvailable::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AttributeOwnershipAcquisitionIfAvailable_descriptor_;
+  metadata.reflection = AttributeOwnershipAcquisitionIfAvailable_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AttributeOwnershipDivestitureIfWanted::kRequestIdFieldNumber;
+const int AttributeOwnershipDivestitureIfWanted::kObjectInstanceHandleFieldNumber;
+const int AttributeOwnershipDivestitureIfWanted::kAttributeHandlesFieldNumber;
+const int AttributeOwnershipDivestitureIfWanted::kTagFieldNumber;
+#endif  // !_MSC_VER
+
+AttributeOwnershipDivestitureIfWanted::AttributeOwnershipDivestitureIfWanted()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AttributeOwnershipDivestitureIfWanted::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+AttributeOwnershipDivestitureIfWanted::AttributeOwnershipDivestitureIfWanted(const AttributeOwnershipDivestitureIfWanted& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AttributeOwnershipDivestitureIfWanted::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  objectinstancehandle_ = NULL;
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AttributeOwnershipDivestitureIfWanted::~AttributeOwnershipDivestitureIfWanted() {
+  SharedDtor();
+}
+
+void AttributeOwnershipDivestitureIfWanted::SharedDtor() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void AttributeOwnershipDivestitureIfWanted::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AttributeOwnershipDivestitureIfWanted::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AttributeOwnershipDivestitureIfWanted_descriptor_;
+}
+
+const AttributeOwnershipDivestitureIfWanted& AttributeOwnershipDivestitureIfWanted::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AttributeOwnershipDivestitureIfWanted* AttributeOwnershipDivestitureIfWanted::default_instance_ = NULL;
+
+AttributeOwnershipDivestitureIfWanted* AttributeOwnershipDivestitureIfWanted::New() const {
+  return new AttributeOwnershipDivestitureIfWanted;
+}
+
+void AttributeOwnershipDivestitureIfWanted::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AttributeOwnershipDivestitureIfWanted::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_objectInstanceHandle;
+        break;
+      }
+
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceHandle:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 24, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_attributeHandles;
+        if (input->ExpectTag(34)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AttributeOwnershipDivestitureIfWanted::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 3;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      3, this->attributehandles(i), output);
+  }
+
+  // optional bytes tag = 4;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      4, this->tag(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AttributeOwnershipDivestitureIfWanted::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 3;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(3, this->attributehandles(i), target);
+  }
+
+  // optional bytes tag = 4;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        4, this->tag(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AttributeOwnershipDivestitureIfWanted::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // optional bytes tag = 4;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 3;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AttributeOwnershipDivestitureIfWanted::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AttributeOwnershipDivestitureIfWanted* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AttributeOwnershipDivestitureIfWanted*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AttributeOwnershipDivestitureIfWanted::MergeFrom(const AttributeOwnershipDivestitureIfWanted& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AttributeOwnershipDivestitureIfWanted::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AttributeOwnershipDivestitureIfWanted::CopyFrom(const AttributeOwnershipDivestitureIfWanted& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AttributeOwnershipDivestitureIfWanted::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AttributeOwnershipDivestitureIfWanted::Swap(AttributeOwnershipDivestitureIfWanted* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(tag_, other->tag_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AttributeOwnershipDivestitureIfWanted::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AttributeOwnershipDivestitureIfWanted_descriptor_;
+  metadata.reflection = AttributeOwnershipDivestitureIfWanted_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int CancelNegotiatedAttributeOwnershipDivestiture::kObjectInstanceHandleFieldNumber;
+const int CancelNegotiatedAttributeOwnershipDivestiture::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+CancelNegotiatedAttributeOwnershipDivestiture::CancelNegotiatedAttributeOwnershipDivestiture()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void CancelNegotiatedAttributeOwnershipDivestiture::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+CancelNegotiatedAttributeOwnershipDivestiture::CancelNegotiatedAttributeOwnershipDivestiture(const CancelNegotiatedAttributeOwnershipDivestiture& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void CancelNegotiatedAttributeOwnershipDivestiture::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+CancelNegotiatedAttributeOwnershipDivestiture::~CancelNegotiatedAttributeOwnershipDivestiture() {
+  SharedDtor();
+}
+
+void CancelNegotiatedAttributeOwnershipDivestiture::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void CancelNegotiatedAttributeOwnershipDivestiture::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* CancelNegotiatedAttributeOwnershipDivestiture::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return CancelNegotiatedAttributeOwnershipDivestiture_descriptor_;
+}
+
+const CancelNegotiatedAttributeOwnershipDivestiture& CancelNegotiatedAttributeOwnershipDivestiture::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+CancelNegotiatedAttributeOwnershipDivestiture* CancelNegotiatedAttributeOwnershipDivestiture::default_instance_ = NULL;
+
+CancelNegotiatedAttributeOwnershipDivestiture* CancelNegotiatedAttributeOwnershipDivestiture::New() const {
+  return new CancelNegotiatedAttributeOwnershipDivestiture;
+}
+
+void CancelNegotiatedAttributeOwnershipDivestiture::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool CancelNegotiatedAttributeOwnershipDivestiture::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void CancelNegotiatedAttributeOwnershipDivestiture::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* CancelNegotiatedAttributeOwnershipDivestiture::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int CancelNegotiatedAttributeOwnershipDivestiture::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void CancelNegotiatedAttributeOwnershipDivestiture::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const CancelNegotiatedAttributeOwnershipDivestiture* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const CancelNegotiatedAttributeOwnershipDivestiture*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void CancelNegotiatedAttributeOwnershipDivestiture::MergeFrom(const CancelNegotiatedAttributeOwnershipDivestiture& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void CancelNegotiatedAttributeOwnershipDivestiture::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void CancelNegotiatedAttributeOwnershipDivestiture::CopyFrom(const CancelNegotiatedAttributeOwnershipDivestiture& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool CancelNegotiatedAttributeOwnershipDivestiture::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void CancelNegotiatedAttributeOwnershipDivestiture::Swap(CancelNegotiatedAttributeOwnershipDivestiture* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata CancelNegotiatedAttributeOwnershipDivestiture::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = CancelNegotiatedAttributeOwnershipDivestiture_descriptor_;
+  metadata.reflection = CancelNegotiatedAttributeOwnershipDivestiture_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int CancelAttributeOwnershipAcquisition::kObjectInstanceHandleFieldNumber;
+const int CancelAttributeOwnershipAcquisition::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+CancelAttributeOwnershipAcquisition::CancelAttributeOwnershipAcquisition()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void CancelAttributeOwnershipAcquisition::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+CancelAttributeOwnershipAcquisition::CancelAttributeOwnershipAcquisition(const CancelAttributeOwnershipAcquisition& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void CancelAttributeOwnershipAcquisition::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+CancelAttributeOwnershipAcquisition::~CancelAttributeOwnershipAcquisition() {
+  SharedDtor();
+}
+
+void CancelAttributeOwnershipAcquisition::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void CancelAttributeOwnershipAcquisition::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* CancelAttributeOwnershipAcquisition::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return CancelAttributeOwnershipAcquisition_descriptor_;
+}
+
+const CancelAttributeOwnershipAcquisition& CancelAttributeOwnershipAcquisition::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+CancelAttributeOwnershipAcquisition* CancelAttributeOwnershipAcquisition::default_instance_ = NULL;
+
+CancelAttributeOwnershipAcquisition* CancelAttributeOwnershipAcquisition::New() const {
+  return new CancelAttributeOwnershipAcquisition;
+}
+
+void CancelAttributeOwnershipAcquisition::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool CancelAttributeOwnershipAcquisition::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void CancelAttributeOwnershipAcquisition::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* CancelAttributeOwnershipAcquisition::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int CancelAttributeOwnershipAcquisition::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void CancelAttributeOwnershipAcquisition::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const CancelAttributeOwnershipAcquisition* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const CancelAttributeOwnershipAcquisition*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void CancelAttributeOwnershipAcquisition::MergeFrom(const CancelAttributeOwnershipAcquisition& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void CancelAttributeOwnershipAcquisition::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void CancelAttributeOwnershipAcquisition::CopyFrom(const CancelAttributeOwnershipAcquisition& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool CancelAttributeOwnershipAcquisition::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void CancelAttributeOwnershipAcquisition::Swap(CancelAttributeOwnershipAcquisition* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata CancelAttributeOwnershipAcquisition::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = CancelAttributeOwnershipAcquisition_descriptor_;
+  metadata.reflection = CancelAttributeOwnershipAcquisition_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int QueryAttributeOwnership::kObjectInstanceHandleFieldNumber;
+const int QueryAttributeOwnership::kAttributeHandleFieldNumber;
+#endif  // !_MSC_VER
+
+QueryAttributeOwnership::QueryAttributeOwnership()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void QueryAttributeOwnership::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+QueryAttributeOwnership::QueryAttributeOwnership(const QueryAttributeOwnership& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void QueryAttributeOwnership::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  attributehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+QueryAttributeOwnership::~QueryAttributeOwnership() {
+  SharedDtor();
+}
+
+void QueryAttributeOwnership::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void QueryAttributeOwnership::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* QueryAttributeOwnership::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return QueryAttributeOwnership_descriptor_;
+}
+
+const QueryAttributeOwnership& QueryAttributeOwnership::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+QueryAttributeOwnership* QueryAttributeOwnership::default_instance_ = NULL;
+
+QueryAttributeOwnership* QueryAttributeOwnership::New() const {
+  return new QueryAttributeOwnership;
+}
+
+void QueryAttributeOwnership::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    attributehandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool QueryAttributeOwnership::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandle;
+        break;
+      }
+
+      // required uint32 attributeHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &attributehandle_)));
+          set_has_attributehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void QueryAttributeOwnership::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // required uint32 attributeHandle = 2;
+  if (has_attributehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->attributehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* QueryAttributeOwnership::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // required uint32 attributeHandle = 2;
+  if (has_attributehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->attributehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int QueryAttributeOwnership::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // required uint32 attributeHandle = 2;
+    if (has_attributehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->attributehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void QueryAttributeOwnership::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const QueryAttributeOwnership* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const QueryAttributeOwnership*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void QueryAttributeOwnership::MergeFrom(const QueryAttributeOwnership& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_attributehandle()) {
+      set_attributehandle(from.attributehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void QueryAttributeOwnership::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void QueryAttributeOwnership::CopyFrom(const QueryAttributeOwnership& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool QueryAttributeOwnership::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void QueryAttributeOwnership::Swap(QueryAttributeOwnership* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(attributehandle_, other->attributehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata QueryAttributeOwnership::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = QueryAttributeOwnership_descriptor_;
+  metadata.reflection = QueryAttributeOwnership_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int EnableTimeRegulation::kLookaheadFieldNumber;
+#endif  // !_MSC_VER
+
+EnableTimeRegulation::EnableTimeRegulation()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void EnableTimeRegulation::InitAsDefaultInstance() {
+}
+
+EnableTimeRegulation::EnableTimeRegulation(const EnableTimeRegulation& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void EnableTimeRegulation::SharedCtor() {
+  _cached_size_ = 0;
+  lookahead_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+EnableTimeRegulation::~EnableTimeRegulation() {
+  SharedDtor();
+}
+
+void EnableTimeRegulation::SharedDtor() {
+  if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+    delete lookahead_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void EnableTimeRegulation::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* EnableTimeRegulation::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return EnableTimeRegulation_descriptor_;
+}
+
+const EnableTimeRegulation& EnableTimeRegulation::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+EnableTimeRegulation* EnableTimeRegulation::default_instance_ = NULL;
+
+EnableTimeRegulation* EnableTimeRegulation::New() const {
+  return new EnableTimeRegulation;
+}
+
+void EnableTimeRegulation::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_lookahead()) {
+      if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+        lookahead_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool EnableTimeRegulation::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required bytes lookahead = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_lookahead()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void EnableTimeRegulation::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required bytes lookahead = 1;
+  if (has_lookahead()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      1, this->lookahead(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* EnableTimeRegulation::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required bytes lookahead = 1;
+  if (has_lookahead()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        1, this->lookahead(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int EnableTimeRegulation::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required bytes lookahead = 1;
+    if (has_lookahead()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->lookahead());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void EnableTimeRegulation::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const EnableTimeRegulation* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const EnableTimeRegulation*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void EnableTimeRegulation::MergeFrom(const EnableTimeRegulation& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_lookahead()) {
+      set_lookahead(from.lookahead());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void EnableTimeRegulation::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void EnableTimeRegulation::CopyFrom(const EnableTimeRegulation& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool EnableTimeRegulation::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void EnableTimeRegulation::Swap(EnableTimeRegulation* other) {
+  if (other != this) {
+    std::swap(lookahead_, other->lookahead_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata EnableTimeRegulation::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = EnableTimeRegulation_descriptor_;
+  metadata.reflection = EnableTimeRegulation_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+DisableTimeRegulation::DisableTimeRegulation()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void DisableTimeRegulation::InitAsDefaultInstance() {
+}
+
+DisableTimeRegulation::DisableTimeRegulation(const DisableTimeRegulation& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void DisableTimeRegulation::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+DisableTimeRegulation::~DisableTimeRegulation() {
+  SharedDtor();
+}
+
+void DisableTimeRegulation::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void DisableTimeRegulation::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* DisableTimeRegulation::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return DisableTimeRegulation_descriptor_;
+}
+
+const DisableTimeRegulation& DisableTimeRegulation::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+DisableTimeRegulation* DisableTimeRegulation::default_instance_ = NULL;
+
+DisableTimeRegulation* DisableTimeRegulation::New() const {
+  return new DisableTimeRegulation;
+}
+
+void DisableTimeRegulation::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool DisableTimeRegulation::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void DisableTimeRegulation::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* DisableTimeRegulation::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int DisableTimeRegulation::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void DisableTimeRegulation::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const DisableTimeRegulation* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const DisableTimeRegulation*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void DisableTimeRegulation::MergeFrom(const DisableTimeRegulation& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void DisableTimeRegulation::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void DisableTimeRegulation::CopyFrom(const DisableTimeRegulation& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool DisableTimeRegulation::IsInitialized() const {
+
+  return true;
+}
+
+void DisableTimeRegulation::Swap(DisableTimeRegulation* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata DisableTimeRegulation::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = DisableTimeRegulation_descriptor_;
+  metadata.reflection = DisableTimeRegulation_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+EnableTimeConstrained::EnableTimeConstrained()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void EnableTimeConstrained::InitAsDefaultInstance() {
+}
+
+EnableTimeConstrained::EnableTimeConstrained(const EnableTimeConstrained& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void EnableTimeConstrained::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+EnableTimeConstrained::~EnableTimeConstrained() {
+  SharedDtor();
+}
+
+void EnableTimeConstrained::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void EnableTimeConstrained::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* EnableTimeConstrained::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return EnableTimeConstrained_descriptor_;
+}
+
+const EnableTimeConstrained& EnableTimeConstrained::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+EnableTimeConstrained* EnableTimeConstrained::default_instance_ = NULL;
+
+EnableTimeConstrained* EnableTimeConstrained::New() const {
+  return new EnableTimeConstrained;
+}
+
+void EnableTimeConstrained::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool EnableTimeConstrained::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void EnableTimeConstrained::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* EnableTimeConstrained::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int EnableTimeConstrained::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void EnableTimeConstrained::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const EnableTimeConstrained* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const EnableTimeConstrained*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void EnableTimeConstrained::MergeFrom(const EnableTimeConstrained& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void EnableTimeConstrained::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void EnableTimeConstrained::CopyFrom(const EnableTimeConstrained& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool EnableTimeConstrained::IsInitialized() const {
+
+  return true;
+}
+
+void EnableTimeConstrained::Swap(EnableTimeConstrained* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata EnableTimeConstrained::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = EnableTimeConstrained_descriptor_;
+  metadata.reflection = EnableTimeConstrained_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+DisableTimeConstrained::DisableTimeConstrained()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void DisableTimeConstrained::InitAsDefaultInstance() {
+}
+
+DisableTimeConstrained::DisableTimeConstrained(const DisableTimeConstrained& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void DisableTimeConstrained::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+DisableTimeConstrained::~DisableTimeConstrained() {
+  SharedDtor();
+}
+
+void DisableTimeConstrained::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void DisableTimeConstrained::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* DisableTimeConstrained::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return DisableTimeConstrained_descriptor_;
+}
+
+const DisableTimeConstrained& DisableTimeConstrained::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+DisableTimeConstrained* DisableTimeConstrained::default_instance_ = NULL;
+
+DisableTimeConstrained* DisableTimeConstrained::New() const {
+  return new DisableTimeConstrained;
+}
+
+void DisableTimeConstrained::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool DisableTimeConstrained::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void DisableTimeConstrained::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* DisableTimeConstrained::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int DisableTimeConstrained::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void DisableTimeConstrained::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const DisableTimeConstrained* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const DisableTimeConstrained*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void DisableTimeConstrained::MergeFrom(const DisableTimeConstrained& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void DisableTimeConstrained::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void DisableTimeConstrained::CopyFrom(const DisableTimeConstrained& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool DisableTimeConstrained::IsInitialized() const {
+
+  return true;
+}
+
+void DisableTimeConstrained::Swap(DisableTimeConstrained* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata DisableTimeConstrained::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = DisableTimeConstrained_descriptor_;
+  metadata.reflection = DisableTimeConstrained_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int TimeAdvanceRequest::kTimeFieldNumber;
+#endif  // !_MSC_VER
+
+TimeAdvanceRequest::TimeAdvanceRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void TimeAdvanceRequest::InitAsDefaultInstance() {
+}
+
+TimeAdvanceRequest::TimeAdvanceRequest(const TimeAdvanceRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void TimeAdvanceRequest::SharedCtor() {
+  _cached_size_ = 0;
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+TimeAdvanceRequest::~TimeAdvanceRequest() {
+  SharedDtor();
+}
+
+void TimeAdvanceRequest::SharedDtor() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void TimeAdvanceRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* TimeAdvanceRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return TimeAdvanceRequest_descriptor_;
+}
+
+const TimeAdvanceRequest& TimeAdvanceRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+TimeAdvanceRequest* TimeAdvanceRequest::default_instance_ = NULL;
+
+TimeAdvanceRequest* TimeAdvanceRequest::New() const {
+  return new TimeAdvanceRequest;
+}
+
+void TimeAdvanceRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool TimeAdvanceRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required bytes time = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void TimeAdvanceRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      1, this->time(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* TimeAdvanceRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        1, this->time(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int TimeAdvanceRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required bytes time = 1;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void TimeAdvanceRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const TimeAdvanceRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const TimeAdvanceRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void TimeAdvanceRequest::MergeFrom(const TimeAdvanceRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void TimeAdvanceRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void TimeAdvanceRequest::CopyFrom(const TimeAdvanceRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool TimeAdvanceRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void TimeAdvanceRequest::Swap(TimeAdvanceRequest* other) {
+  if (other != this) {
+    std::swap(time_, other->time_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata TimeAdvanceRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = TimeAdvanceRequest_descriptor_;
+  metadata.reflection = TimeAdvanceRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int TimeAdvanceRequestAvailable::kTimeFieldNumber;
+#endif  // !_MSC_VER
+
+TimeAdvanceRequestAvailable::TimeAdvanceRequestAvailable()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void TimeAdvanceRequestAvailable::InitAsDefaultInstance() {
+}
+
+TimeAdvanceRequestAvailable::TimeAdvanceRequestAvailable(const TimeAdvanceRequestAvailable& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void TimeAdvanceRequestAvailable::SharedCtor() {
+  _cached_size_ = 0;
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+TimeAdvanceRequestAvailable::~TimeAdvanceRequestAvailable() {
+  SharedDtor();
+}
+
+void TimeAdvanceRequestAvailable::SharedDtor() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void TimeAdvanceRequestAvailable::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* TimeAdvanceRequestAvailable::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return TimeAdvanceRequestAvailable_descriptor_;
+}
+
+const TimeAdvanceRequestAvailable& TimeAdvanceRequestAvailable::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+TimeAdvanceRequestAvailable* TimeAdvanceRequestAvailable::default_instance_ = NULL;
+
+TimeAdvanceRequestAvailable* TimeAdvanceRequestAvailable::New() const {
+  return new TimeAdvanceRequestAvailable;
+}
+
+void TimeAdvanceRequestAvailable::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool TimeAdvanceRequestAvailable::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required bytes time = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void TimeAdvanceRequestAvailable::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      1, this->time(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* TimeAdvanceRequestAvailable::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        1, this->time(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int TimeAdvanceRequestAvailable::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required bytes time = 1;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void TimeAdvanceRequestAvailable::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const TimeAdvanceRequestAvailable* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const TimeAdvanceRequestAvailable*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void TimeAdvanceRequestAvailable::MergeFrom(const TimeAdvanceRequestAvailable& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void TimeAdvanceRequestAvailable::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void TimeAdvanceRequestAvailable::CopyFrom(const TimeAdvanceRequestAvailable& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool TimeAdvanceRequestAvailable::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void TimeAdvanceRequestAvailable::Swap(TimeAdvanceRequestAvailable* other) {
+  if (other != this) {
+    std::swap(time_, other->time_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata TimeAdvanceRequestAvailable::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = TimeAdvanceRequestAvailable_descriptor_;
+  metadata.reflection = TimeAdvanceRequestAvailable_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int NextMessageRequest::kTimeFieldNumber;
+#endif  // !_MSC_VER
+
+NextMessageRequest::NextMessageRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void NextMessageRequest::InitAsDefaultInstance() {
+}
+
+NextMessageRequest::NextMessageRequest(const NextMessageRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void NextMessageRequest::SharedCtor() {
+  _cached_size_ = 0;
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+NextMessageRequest::~NextMessageRequest() {
+  SharedDtor();
+}
+
+void NextMessageRequest::SharedDtor() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void NextMessageRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* NextMessageRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return NextMessageRequest_descriptor_;
+}
+
+const NextMessageRequest& NextMessageRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+NextMessageRequest* NextMessageRequest::default_instance_ = NULL;
+
+NextMessageRequest* NextMessageRequest::New() const {
+  return new NextMessageRequest;
+}
+
+void NextMessageRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool NextMessageRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required bytes time = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void NextMessageRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      1, this->time(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* NextMessageRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        1, this->time(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int NextMessageRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required bytes time = 1;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void NextMessageRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const NextMessageRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const NextMessageRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void NextMessageRequest::MergeFrom(const NextMessageRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void NextMessageRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void NextMessageRequest::CopyFrom(const NextMessageRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool NextMessageRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void NextMessageRequest::Swap(NextMessageRequest* other) {
+  if (other != this) {
+    std::swap(time_, other->time_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata NextMessageRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = NextMessageRequest_descriptor_;
+  metadata.reflection = NextMessageRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int NextMessageRequestAvailable::kTimeFieldNumber;
+#endif  // !_MSC_VER
+
+NextMessageRequestAvailable::NextMessageRequestAvailable()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void NextMessageRequestAvailable::InitAsDefaultInstance() {
+}
+
+NextMessageRequestAvailable::NextMessageRequestAvailable(const NextMessageRequestAvailable& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void NextMessageRequestAvailable::SharedCtor() {
+  _cached_size_ = 0;
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+NextMessageRequestAvailable::~NextMessageRequestAvailable() {
+  SharedDtor();
+}
+
+void NextMessageRequestAvailable::SharedDtor() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void NextMessageRequestAvailable::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* NextMessageRequestAvailable::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return NextMessageRequestAvailable_descriptor_;
+}
+
+const NextMessageRequestAvailable& NextMessageRequestAvailable::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+NextMessageRequestAvailable* NextMessageRequestAvailable::default_instance_ = NULL;
+
+NextMessageRequestAvailable* NextMessageRequestAvailable::New() const {
+  return new NextMessageRequestAvailable;
+}
+
+void NextMessageRequestAvailable::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool NextMessageRequestAvailable::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required bytes time = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void NextMessageRequestAvailable::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      1, this->time(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* NextMessageRequestAvailable::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        1, this->time(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int NextMessageRequestAvailable::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required bytes time = 1;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void NextMessageRequestAvailable::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const NextMessageRequestAvailable* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const NextMessageRequestAvailable*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void NextMessageRequestAvailable::MergeFrom(const NextMessageRequestAvailable& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void NextMessageRequestAvailable::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void NextMessageRequestAvailable::CopyFrom(const NextMessageRequestAvailable& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool NextMessageRequestAvailable::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void NextMessageRequestAvailable::Swap(NextMessageRequestAvailable* other) {
+  if (other != this) {
+    std::swap(time_, other->time_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata NextMessageRequestAvailable::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = NextMessageRequestAvailable_descriptor_;
+  metadata.reflection = NextMessageRequestAvailable_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FlushQueueRequest::kTimeFieldNumber;
+#endif  // !_MSC_VER
+
+FlushQueueRequest::FlushQueueRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FlushQueueRequest::InitAsDefaultInstance() {
+}
+
+FlushQueueRequest::FlushQueueRequest(const FlushQueueRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FlushQueueRequest::SharedCtor() {
+  _cached_size_ = 0;
+  time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FlushQueueRequest::~FlushQueueRequest() {
+  SharedDtor();
+}
+
+void FlushQueueRequest::SharedDtor() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FlushQueueRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FlushQueueRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FlushQueueRequest_descriptor_;
+}
+
+const FlushQueueRequest& FlushQueueRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FlushQueueRequest* FlushQueueRequest::default_instance_ = NULL;
+
+FlushQueueRequest* FlushQueueRequest::New() const {
+  return new FlushQueueRequest;
+}
+
+void FlushQueueRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_time()) {
+      if (time_ != &::google::protobuf::internal::kEmptyString) {
+        time_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FlushQueueRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required bytes time = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_time()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FlushQueueRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      1, this->time(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FlushQueueRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required bytes time = 1;
+  if (has_time()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        1, this->time(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FlushQueueRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required bytes time = 1;
+    if (has_time()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->time());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FlushQueueRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FlushQueueRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FlushQueueRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FlushQueueRequest::MergeFrom(const FlushQueueRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_time()) {
+      set_time(from.time());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FlushQueueRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FlushQueueRequest::CopyFrom(const FlushQueueRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FlushQueueRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void FlushQueueRequest::Swap(FlushQueueRequest* other) {
+  if (other != this) {
+    std::swap(time_, other->time_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FlushQueueRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FlushQueueRequest_descriptor_;
+  metadata.reflection = FlushQueueRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int QueryGALT::kRequestIdFieldNumber;
+#endif  // !_MSC_VER
+
+QueryGALT::QueryGALT()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void QueryGALT::InitAsDefaultInstance() {
+}
+
+QueryGALT::QueryGALT(const QueryGALT& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void QueryGALT::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+QueryGALT::~QueryGALT() {
+  SharedDtor();
+}
+
+void QueryGALT::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void QueryGALT::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* QueryGALT::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return QueryGALT_descriptor_;
+}
+
+const QueryGALT& QueryGALT::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+QueryGALT* QueryGALT::default_instance_ = NULL;
+
+QueryGALT* QueryGALT::New() const {
+  return new QueryGALT;
+}
+
+void QueryGALT::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool QueryGALT::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void QueryGALT::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* QueryGALT::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int QueryGALT::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void QueryGALT::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const QueryGALT* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const QueryGALT*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void QueryGALT::MergeFrom(const QueryGALT& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void QueryGALT::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void QueryGALT::CopyFrom(const QueryGALT& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool QueryGALT::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void QueryGALT::Swap(QueryGALT* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata QueryGALT::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = QueryGALT_descriptor_;
+  metadata.reflection = QueryGALT_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int QueryLITS::kRequestIdFieldNumber;
+#endif  // !_MSC_VER
+
+QueryLITS::QueryLITS()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void QueryLITS::InitAsDefaultInstance() {
+}
+
+QueryLITS::QueryLITS(const QueryLITS& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void QueryLITS::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+QueryLITS::~QueryLITS() {
+  SharedDtor();
+}
+
+void QueryLITS::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void QueryLITS::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* QueryLITS::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return QueryLITS_descriptor_;
+}
+
+const QueryLITS& QueryLITS::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+QueryLITS* QueryLITS::default_instance_ = NULL;
+
+QueryLITS* QueryLITS::New() const {
+  return new QueryLITS;
+}
+
+void QueryLITS::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool QueryLITS::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void QueryLITS::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* QueryLITS::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int QueryLITS::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void QueryLITS::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const QueryLITS* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const QueryLITS*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void QueryLITS::MergeFrom(const QueryLITS& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void QueryLITS::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void QueryLITS::CopyFrom(const QueryLITS& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool QueryLITS::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void QueryLITS::Swap(QueryLITS* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata QueryLITS::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = QueryLITS_descriptor_;
+  metadata.reflection = QueryLITS_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ModifyLookahead::kLookaheadFieldNumber;
+#endif  // !_MSC_VER
+
+ModifyLookahead::ModifyLookahead()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ModifyLookahead::InitAsDefaultInstance() {
+}
+
+ModifyLookahead::ModifyLookahead(const ModifyLookahead& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ModifyLookahead::SharedCtor() {
+  _cached_size_ = 0;
+  lookahead_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ModifyLookahead::~ModifyLookahead() {
+  SharedDtor();
+}
+
+void ModifyLookahead::SharedDtor() {
+  if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+    delete lookahead_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void ModifyLookahead::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ModifyLookahead::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ModifyLookahead_descriptor_;
+}
+
+const ModifyLookahead& ModifyLookahead::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ModifyLookahead* ModifyLookahead::default_instance_ = NULL;
+
+ModifyLookahead* ModifyLookahead::New() const {
+  return new ModifyLookahead;
+}
+
+void ModifyLookahead::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_lookahead()) {
+      if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+        lookahead_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ModifyLookahead::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required bytes lookahead = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_lookahead()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ModifyLookahead::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required bytes lookahead = 1;
+  if (has_lookahead()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      1, this->lookahead(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ModifyLookahead::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required bytes lookahead = 1;
+  if (has_lookahead()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        1, this->lookahead(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ModifyLookahead::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required bytes lookahead = 1;
+    if (has_lookahead()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->lookahead());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ModifyLookahead::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ModifyLookahead* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ModifyLookahead*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ModifyLookahead::MergeFrom(const ModifyLookahead& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_lookahead()) {
+      set_lookahead(from.lookahead());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ModifyLookahead::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ModifyLookahead::CopyFrom(const ModifyLookahead& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ModifyLookahead::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void ModifyLookahead::Swap(ModifyLookahead* other) {
+  if (other != this) {
+    std::swap(lookahead_, other->lookahead_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ModifyLookahead::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ModifyLookahead_descriptor_;
+  metadata.reflection = ModifyLookahead_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int Retract::kRequestIdFieldNumber;
+const int Retract::kMessageRetractionHandleFieldNumber;
+#endif  // !_MSC_VER
+
+Retract::Retract()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void Retract::InitAsDefaultInstance() {
+  messageretractionhandle_ = const_cast< ::ohla::rti::proto::MessageRetractionHandle*>(&::ohla::rti::proto::MessageRetractionHandle::default_instance());
+}
+
+Retract::Retract(const Retract& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void Retract::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  messageretractionhandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+Retract::~Retract() {
+  SharedDtor();
+}
+
+void Retract::SharedDtor() {
+  if (this != default_instance_) {
+    delete messageretractionhandle_;
+  }
+}
+
+void Retract::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* Retract::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return Retract_descriptor_;
+}
+
+const Retract& Retract::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+Retract* Retract::default_instance_ = NULL;
+
+Retract* Retract::New() const {
+  return new Retract;
+}
+
+void Retract::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_messageretractionhandle()) {
+      if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool Retract::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_messageRetractionHandle;
+        break;
+      }
+
+      // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_messageRetractionHandle:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_messageretractionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void Retract::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 2;
+  if (has_messageretractionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->messageretractionhandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* Retract::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 2;
+  if (has_messageretractionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->messageretractionhandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int Retract::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 2;
+    if (has_messageretractionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->messageretractionhandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void Retract::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const Retract* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const Retract*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void Retract::MergeFrom(const Retract& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_messageretractionhandle()) {
+      mutable_messageretractionhandle()->::ohla::rti::proto::MessageRetractionHandle::MergeFrom(from.messageretractionhandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void Retract::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void Retract::CopyFrom(const Retract& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool Retract::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  if (has_messageretractionhandle()) {
+    if (!this->messageretractionhandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void Retract::Swap(Retract* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(messageretractionhandle_, other->messageretractionhandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata Retract::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = Retract_descriptor_;
+  metadata.reflection = Retract_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int CreateRegion::kRegionHandleFieldNumber;
+const int CreateRegion::kDimensionHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+CreateRegion::CreateRegion()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void CreateRegion::InitAsDefaultInstance() {
+  regionhandle_ = const_cast< ::ohla::rti::proto::RegionHandle*>(&::ohla::rti::proto::RegionHandle::default_instance());
+}
+
+CreateRegion::CreateRegion(const CreateRegion& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void CreateRegion::SharedCtor() {
+  _cached_size_ = 0;
+  regionhandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+CreateRegion::~CreateRegion() {
+  SharedDtor();
+}
+
+void CreateRegion::SharedDtor() {
+  if (this != default_instance_) {
+    delete regionhandle_;
+  }
+}
+
+void CreateRegion::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* CreateRegion::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return CreateRegion_descriptor_;
+}
+
+const CreateRegion& CreateRegion::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+CreateRegion* CreateRegion::default_instance_ = NULL;
+
+CreateRegion* CreateRegion::New() const {
+  return new CreateRegion;
+}
+
+void CreateRegion::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_regionhandle()) {
+      if (regionhandle_ != NULL) regionhandle_->::ohla::rti::proto::RegionHandle::Clear();
+    }
+  }
+  dimensionhandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool CreateRegion::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_regionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_dimensionHandles;
+        break;
+      }
+
+      // repeated uint32 dimensionHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_dimensionHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_dimensionhandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_dimensionhandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_dimensionHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void CreateRegion::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  if (has_regionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->regionhandle(), output);
+  }
+
+  // repeated uint32 dimensionHandles = 2;
+  for (int i = 0; i < this->dimensionhandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->dimensionhandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* CreateRegion::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  if (has_regionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->regionhandle(), target);
+  }
+
+  // repeated uint32 dimensionHandles = 2;
+  for (int i = 0; i < this->dimensionhandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->dimensionhandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int CreateRegion::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+    if (has_regionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->regionhandle());
+    }
+
+  }
+  // repeated uint32 dimensionHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->dimensionhandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->dimensionhandles(i));
+    }
+    total_size += 1 * this->dimensionhandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void CreateRegion::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const CreateRegion* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const CreateRegion*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void CreateRegion::MergeFrom(const CreateRegion& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  dimensionhandles_.MergeFrom(from.dimensionhandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_regionhandle()) {
+      mutable_regionhandle()->::ohla::rti::proto::RegionHandle::MergeFrom(from.regionhandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void CreateRegion::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void CreateRegion::CopyFrom(const CreateRegion& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool CreateRegion::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_regionhandle()) {
+    if (!this->regionhandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void CreateRegion::Swap(CreateRegion* other) {
+  if (other != this) {
+    std::swap(regionhandle_, other->regionhandle_);
+    dimensionhandles_.Swap(&other->dimensionhandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata CreateRegion::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = CreateRegion_descriptor_;
+  metadata.reflection = CreateRegion_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int CommitRegionModifications_RegionModification::kRegionHandleFieldNumber;
+const int CommitRegionModifications_RegionModification::kDimensionRangeBoundsFieldNumber;
+#endif  // !_MSC_VER
+
+CommitRegionModifications_RegionModification::CommitRegionModifications_RegionModification()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void CommitRegionModifications_RegionModification::InitAsDefaultInstance() {
+  regionhandle_ = const_cast< ::ohla::rti::proto::RegionHandle*>(&::ohla::rti::proto::RegionHandle::default_instance());
+}
+
+CommitRegionModifications_RegionModification::CommitRegionModifications_RegionModification(const CommitRegionModifications_RegionModification& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void CommitRegionModifications_RegionModification::SharedCtor() {
+  _cached_size_ = 0;
+  regionhandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+CommitRegionModifications_RegionModification::~CommitRegionModifications_RegionModification() {
+  SharedDtor();
+}
+
+void CommitRegionModifications_RegionModification::SharedDtor() {
+  if (this != default_instance_) {
+    delete regionhandle_;
+  }
+}
+
+void CommitRegionModifications_RegionModification::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* CommitRegionModifications_RegionModification::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return CommitRegionModifications_RegionModification_descriptor_;
+}
+
+const CommitRegionModifications_RegionModification& CommitRegionModifications_RegionModification::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+CommitRegionModifications_RegionModification* CommitRegionModifications_RegionModification::default_instance_ = NULL;
+
+CommitRegionModifications_RegionModification* CommitRegionModifications_RegionModification::New() const {
+  return new CommitRegionModifications_RegionModification;
+}
+
+void CommitRegionModifications_RegionModification::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_regionhandle()) {
+      if (regionhandle_ != NULL) regionhandle_->::ohla::rti::proto::RegionHandle::Clear();
+    }
+  }
+  dimensionrangebounds_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool CommitRegionModifications_RegionModification::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_regionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_dimensionRangeBounds;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.DimensionRangeBound dimensionRangeBounds = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_dimensionRangeBounds:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_dimensionrangebounds()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_dimensionRangeBounds;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void CommitRegionModifications_RegionModification::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  if (has_regionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->regionhandle(), output);
+  }
+
+  // repeated .ohla.rti.proto.DimensionRangeBound dimensionRangeBounds = 2;
+  for (int i = 0; i < this->dimensionrangebounds_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->dimensionrangebounds(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* CommitRegionModifications_RegionModification::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  if (has_regionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->regionhandle(), target);
+  }
+
+  // repeated .ohla.rti.proto.DimensionRangeBound dimensionRangeBounds = 2;
+  for (int i = 0; i < this->dimensionrangebounds_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->dimensionrangebounds(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int CommitRegionModifications_RegionModification::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+    if (has_regionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->regionhandle());
+    }
+
+  }
+  // repeated .ohla.rti.proto.DimensionRangeBound dimensionRangeBounds = 2;
+  total_size += 1 * this->dimensionrangebounds_size();
+  for (int i = 0; i < this->dimensionrangebounds_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->dimensionrangebounds(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void CommitRegionModifications_RegionModification::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const CommitRegionModifications_RegionModification* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const CommitRegionModifications_RegionModification*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void CommitRegionModifications_RegionModification::MergeFrom(const CommitRegionModifications_RegionModification& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  dimensionrangebounds_.MergeFrom(from.dimensionrangebounds_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_regionhandle()) {
+      mutable_regionhandle()->::ohla::rti::proto::RegionHandle::MergeFrom(from.regionhandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void CommitRegionModifications_RegionModification::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void CommitRegionModifications_RegionModification::CopyFrom(const CommitRegionModifications_RegionModification& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool CommitRegionModifications_RegionModification::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_regionhandle()) {
+    if (!this->regionhandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < dimensionrangebounds_size(); i++) {
+    if (!this->dimensionrangebounds(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void CommitRegionModifications_RegionModification::Swap(CommitRegionModifications_RegionModification* other) {
+  if (other != this) {
+    std::swap(regionhandle_, other->regionhandle_);
+    dimensionrangebounds_.Swap(&other->dimensionrangebounds_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata CommitRegionModifications_RegionModification::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = CommitRegionModifications_RegionModification_descriptor_;
+  metadata.reflection = CommitRegionModifications_RegionModification_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int CommitRegionModifications::kRegionModificationsFieldNumber;
+#endif  // !_MSC_VER
+
+CommitRegionModifications::CommitRegionModifications()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void CommitRegionModifications::InitAsDefaultInstance() {
+}
+
+CommitRegionModifications::CommitRegionModifications(const CommitRegionModifications& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void CommitRegionModifications::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+CommitRegionModifications::~CommitRegionModifications() {
+  SharedDtor();
+}
+
+void CommitRegionModifications::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void CommitRegionModifications::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* CommitRegionModifications::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return CommitRegionModifications_descriptor_;
+}
+
+const CommitRegionModifications& CommitRegionModifications::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+CommitRegionModifications* CommitRegionModifications::default_instance_ = NULL;
+
+CommitRegionModifications* CommitRegionModifications::New() const {
+  return new CommitRegionModifications;
+}
+
+void CommitRegionModifications::Clear() {
+  regionmodifications_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool CommitRegionModifications::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .ohla.rti.messages.proto.CommitRegionModifications.RegionModification regionModifications = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_regionModifications:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_regionmodifications()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_regionModifications;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void CommitRegionModifications::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .ohla.rti.messages.proto.CommitRegionModifications.RegionModification regionModifications = 1;
+  for (int i = 0; i < this->regionmodifications_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->regionmodifications(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* CommitRegionModifications::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .ohla.rti.messages.proto.CommitRegionModifications.RegionModification regionModifications = 1;
+  for (int i = 0; i < this->regionmodifications_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->regionmodifications(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int CommitRegionModifications::ByteSize() const {
+  int total_size = 0;
+
+  // repeated .ohla.rti.messages.proto.CommitRegionModifications.RegionModification regionModifications = 1;
+  total_size += 1 * this->regionmodifications_size();
+  for (int i = 0; i < this->regionmodifications_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->regionmodifications(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void CommitRegionModifications::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const CommitRegionModifications* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const CommitRegionModifications*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void CommitRegionModifications::MergeFrom(const CommitRegionModifications& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  regionmodifications_.MergeFrom(from.regionmodifications_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void CommitRegionModifications::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void CommitRegionModifications::CopyFrom(const CommitRegionModifications& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool CommitRegionModifications::IsInitialized() const {
+
+  for (int i = 0; i < regionmodifications_size(); i++) {
+    if (!this->regionmodifications(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void CommitRegionModifications::Swap(CommitRegionModifications* other) {
+  if (other != this) {
+    regionmodifications_.Swap(&other->regionmodifications_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata CommitRegionModifications::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = CommitRegionModifications_descriptor_;
+  metadata.reflection = CommitRegionModifications_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int DeleteRegion::kRegionHandleFieldNumber;
+#endif  // !_MSC_VER
+
+DeleteRegion::DeleteRegion()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void DeleteRegion::InitAsDefaultInstance() {
+  regionhandle_ = const_cast< ::ohla::rti::proto::RegionHandle*>(&::ohla::rti::proto::RegionHandle::default_instance());
+}
+
+DeleteRegion::DeleteRegion(const DeleteRegion& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void DeleteRegion::SharedCtor() {
+  _cached_size_ = 0;
+  regionhandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+DeleteRegion::~DeleteRegion() {
+  SharedDtor();
+}
+
+void DeleteRegion::SharedDtor() {
+  if (this != default_instance_) {
+    delete regionhandle_;
+  }
+}
+
+void DeleteRegion::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* DeleteRegion::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return DeleteRegion_descriptor_;
+}
+
+const DeleteRegion& DeleteRegion::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+DeleteRegion* DeleteRegion::default_instance_ = NULL;
+
+DeleteRegion* DeleteRegion::New() const {
+  return new DeleteRegion;
+}
+
+void DeleteRegion::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_regionhandle()) {
+      if (regionhandle_ != NULL) regionhandle_->::ohla::rti::proto::RegionHandle::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool DeleteRegion::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_regionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void DeleteRegion::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  if (has_regionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->regionhandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* DeleteRegion::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  if (has_regionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->regionhandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int DeleteRegion::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+    if (has_regionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->regionhandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void DeleteRegion::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const DeleteRegion* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const DeleteRegion*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void DeleteRegion::MergeFrom(const DeleteRegion& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_regionhandle()) {
+      mutable_regionhandle()->::ohla::rti::proto::RegionHandle::MergeFrom(from.regionhandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void DeleteRegion::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void DeleteRegion::CopyFrom(const DeleteRegion& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool DeleteRegion::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_regionhandle()) {
+    if (!this->regionhandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void DeleteRegion::Swap(DeleteRegion* other) {
+  if (other != this) {
+    std::swap(regionhandle_, other->regionhandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata DeleteRegion::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = DeleteRegion_descriptor_;
+  metadata.reflection = DeleteRegion_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AssociateRegionsForUpdates::kRequestIdFieldNumber;
+const int AssociateRegionsForUpdates::kObjectInstanceHandleFieldNumber;
+const int AssociateRegionsForUpdates::kAttributeRegionAssociationsFieldNumber;
+#endif  // !_MSC_VER
+
+AssociateRegionsForUpdates::AssociateRegionsForUpdates()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AssociateRegionsForUpdates::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+AssociateRegionsForUpdates::AssociateRegionsForUpdates(const AssociateRegionsForUpdates& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AssociateRegionsForUpdates::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  objectinstancehandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AssociateRegionsForUpdates::~AssociateRegionsForUpdates() {
+  SharedDtor();
+}
+
+void AssociateRegionsForUpdates::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void AssociateRegionsForUpdates::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AssociateRegionsForUpdates::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AssociateRegionsForUpdates_descriptor_;
+}
+
+const AssociateRegionsForUpdates& AssociateRegionsForUpdates::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AssociateRegionsForUpdates* AssociateRegionsForUpdates::default_instance_ = NULL;
+
+AssociateRegionsForUpdates* AssociateRegionsForUpdates::New() const {
+  return new AssociateRegionsForUpdates;
+}
+
+void AssociateRegionsForUpdates::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+  }
+  attributeregionassociations_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AssociateRegionsForUpdates::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_objectInstanceHandle;
+        break;
+      }
+
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceHandle:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_attributeRegionAssociations;
+        break;
+      }
+
+      // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_attributeRegionAssociations:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_attributeregionassociations()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_attributeRegionAssociations;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AssociateRegionsForUpdates::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->objectinstancehandle(), output);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 3;
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->attributeregionassociations(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AssociateRegionsForUpdates::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->objectinstancehandle(), target);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 3;
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->attributeregionassociations(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AssociateRegionsForUpdates::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+  }
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 3;
+  total_size += 1 * this->attributeregionassociations_size();
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->attributeregionassociations(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AssociateRegionsForUpdates::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AssociateRegionsForUpdates* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AssociateRegionsForUpdates*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AssociateRegionsForUpdates::MergeFrom(const AssociateRegionsForUpdates& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributeregionassociations_.MergeFrom(from.attributeregionassociations_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AssociateRegionsForUpdates::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AssociateRegionsForUpdates::CopyFrom(const AssociateRegionsForUpdates& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AssociateRegionsForUpdates::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < attributeregionassociations_size(); i++) {
+    if (!this->attributeregionassociations(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AssociateRegionsForUpdates::Swap(AssociateRegionsForUpdates* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributeregionassociations_.Swap(&other->attributeregionassociations_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AssociateRegionsForUpdates::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AssociateRegionsForUpdates_descriptor_;
+  metadata.reflection = AssociateRegionsForUpdates_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int UnassociateRegionsForUpdates::kRequestIdFieldNumber;
+const int UnassociateRegionsForUpdates::kObjectInstanceHandleFieldNumber;
+const int UnassociateRegionsForUpdates::kAttributeRegionAssociationsFieldNumber;
+#endif  // !_MSC_VER
+
+UnassociateRegionsForUpdates::UnassociateRegionsForUpdates()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void UnassociateRegionsForUpdates::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+UnassociateRegionsForUpdates::UnassociateRegionsForUpdates(const UnassociateRegionsForUpdates& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void UnassociateRegionsForUpdates::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  objectinstancehandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+UnassociateRegionsForUpdates::~UnassociateRegionsForUpdates() {
+  SharedDtor();
+}
+
+void UnassociateRegionsForUpdates::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void UnassociateRegionsForUpdates::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* UnassociateRegionsForUpdates::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return UnassociateRegionsForUpdates_descriptor_;
+}
+
+const UnassociateRegionsForUpdates& UnassociateRegionsForUpdates::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+UnassociateRegionsForUpdates* UnassociateRegionsForUpdates::default_instance_ = NULL;
+
+UnassociateRegionsForUpdates* UnassociateRegionsForUpdates::New() const {
+  return new UnassociateRegionsForUpdates;
+}
+
+void UnassociateRegionsForUpdates::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+  }
+  attributeregionassociations_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool UnassociateRegionsForUpdates::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_objectInstanceHandle;
+        break;
+      }
+
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceHandle:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_attributeRegionAssociations;
+        break;
+      }
+
+      // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_attributeRegionAssociations:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_attributeregionassociations()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_attributeRegionAssociations;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void UnassociateRegionsForUpdates::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->objectinstancehandle(), output);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 3;
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->attributeregionassociations(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* UnassociateRegionsForUpdates::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->objectinstancehandle(), target);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 3;
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->attributeregionassociations(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int UnassociateRegionsForUpdates::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+  }
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 3;
+  total_size += 1 * this->attributeregionassociations_size();
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->attributeregionassociations(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void UnassociateRegionsForUpdates::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const UnassociateRegionsForUpdates* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const UnassociateRegionsForUpdates*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void UnassociateRegionsForUpdates::MergeFrom(const UnassociateRegionsForUpdates& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributeregionassociations_.MergeFrom(from.attributeregionassociations_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void UnassociateRegionsForUpdates::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void UnassociateRegionsForUpdates::CopyFrom(const UnassociateRegionsForUpdates& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool UnassociateRegionsForUpdates::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < attributeregionassociations_size(); i++) {
+    if (!this->attributeregionassociations(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void UnassociateRegionsForUpdates::Swap(UnassociateRegionsForUpdates* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributeregionassociations_.Swap(&other->attributeregionassociations_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata UnassociateRegionsForUpdates::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = UnassociateRegionsForUpdates_descriptor_;
+  metadata.reflection = UnassociateRegionsForUpdates_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int SubscribeObjectClassAttributesWithRegions::kObjectClassHandleFieldNumber;
+const int SubscribeObjectClassAttributesWithRegions::kAttributeRegionAssociationsFieldNumber;
+const int SubscribeObjectClassAttributesWithRegions::kPassiveFieldNumber;
+const int SubscribeObjectClassAttributesWithRegions::kUpdateRateDesignatorFieldNumber;
+#endif  // !_MSC_VER
+
+SubscribeObjectClassAttributesWithRegions::SubscribeObjectClassAttributesWithRegions()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void SubscribeObjectClassAttributesWithRegions::InitAsDefaultInstance() {
+}
+
+SubscribeObjectClassAttributesWithRegions::SubscribeObjectClassAttributesWithRegions(const SubscribeObjectClassAttributesWithRegions& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void SubscribeObjectClassAttributesWithRegions::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  passive_ = false;
+  updateratedesignator_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+SubscribeObjectClassAttributesWithRegions::~SubscribeObjectClassAttributesWithRegions() {
+  SharedDtor();
+}
+
+void SubscribeObjectClassAttributesWithRegions::SharedDtor() {
+  if (updateratedesignator_ != &::google::protobuf::internal::kEmptyString) {
+    delete updateratedesignator_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void SubscribeObjectClassAttributesWithRegions::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* SubscribeObjectClassAttributesWithRegions::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return SubscribeObjectClassAttributesWithRegions_descriptor_;
+}
+
+const SubscribeObjectClassAttributesWithRegions& SubscribeObjectClassAttributesWithRegions::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+SubscribeObjectClassAttributesWithRegions* SubscribeObjectClassAttributesWithRegions::default_instance_ = NULL;
+
+SubscribeObjectClassAttributesWithRegions* SubscribeObjectClassAttributesWithRegions::New() const {
+  return new SubscribeObjectClassAttributesWithRegions;
+}
+
+void SubscribeObjectClassAttributesWithRegions::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+    passive_ = false;
+    if (has_updateratedesignator()) {
+      if (updateratedesignator_ != &::google::protobuf::internal::kEmptyString) {
+        updateratedesignator_->clear();
+      }
+    }
+  }
+  attributeregionassociations_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool SubscribeObjectClassAttributesWithRegions::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_attributeRegionAssociations;
+        break;
+      }
+
+      // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_attributeRegionAssociations:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_attributeregionassociations()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_attributeRegionAssociations;
+        if (input->ExpectTag(24)) goto parse_passive;
+        break;
+      }
+
+      // required bool passive = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_passive:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &passive_)));
+          set_has_passive();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_updateRateDesignator;
+        break;
+      }
+
+      // optional string updateRateDesignator = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_updateRateDesignator:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_updateratedesignator()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->updateratedesignator().data(), this->updateratedesignator().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void SubscribeObjectClassAttributesWithRegions::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->attributeregionassociations(i), output);
+  }
+
+  // required bool passive = 3;
+  if (has_passive()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(3, this->passive(), output);
+  }
+
+  // optional string updateRateDesignator = 4;
+  if (has_updateratedesignator()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->updateratedesignator().data(), this->updateratedesignator().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      4, this->updateratedesignator(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* SubscribeObjectClassAttributesWithRegions::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->attributeregionassociations(i), target);
+  }
+
+  // required bool passive = 3;
+  if (has_passive()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(3, this->passive(), target);
+  }
+
+  // optional string updateRateDesignator = 4;
+  if (has_updateratedesignator()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->updateratedesignator().data(), this->updateratedesignator().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        4, this->updateratedesignator(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int SubscribeObjectClassAttributesWithRegions::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+    // required bool passive = 3;
+    if (has_passive()) {
+      total_size += 1 + 1;
+    }
+
+    // optional string updateRateDesignator = 4;
+    if (has_updateratedesignator()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->updateratedesignator());
+    }
+
+  }
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+  total_size += 1 * this->attributeregionassociations_size();
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->attributeregionassociations(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void SubscribeObjectClassAttributesWithRegions::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const SubscribeObjectClassAttributesWithRegions* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const SubscribeObjectClassAttributesWithRegions*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void SubscribeObjectClassAttributesWithRegions::MergeFrom(const SubscribeObjectClassAttributesWithRegions& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributeregionassociations_.MergeFrom(from.attributeregionassociations_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+    if (from.has_passive()) {
+      set_passive(from.passive());
+    }
+    if (from.has_updateratedesignator()) {
+      set_updateratedesignator(from.updateratedesignator());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void SubscribeObjectClassAttributesWithRegions::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void SubscribeObjectClassAttributesWithRegions::CopyFrom(const SubscribeObjectClassAttributesWithRegions& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool SubscribeObjectClassAttributesWithRegions::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000005) != 0x00000005) return false;
+
+  for (int i = 0; i < attributeregionassociations_size(); i++) {
+    if (!this->attributeregionassociations(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void SubscribeObjectClassAttributesWithRegions::Swap(SubscribeObjectClassAttributesWithRegions* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    attributeregionassociations_.Swap(&other->attributeregionassociations_);
+    std::swap(passive_, other->passive_);
+    std::swap(updateratedesignator_, other->updateratedesignator_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata SubscribeObjectClassAttributesWithRegions::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = SubscribeObjectClassAttributesWithRegions_descriptor_;
+  metadata.reflection = SubscribeObjectClassAttributesWithRegions_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int UnsubscribeObjectClassAttributesWithRegions::kObjectClassHandleFieldNumber;
+const int UnsubscribeObjectClassAttributesWithRegions::kAttributeRegionAssociationsFieldNumber;
+#endif  // !_MSC_VER
+
+UnsubscribeObjectClassAttributesWithRegions::UnsubscribeObjectClassAttributesWithRegions()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void UnsubscribeObjectClassAttributesWithRegions::InitAsDefaultInstance() {
+}
+
+UnsubscribeObjectClassAttributesWithRegions::UnsubscribeObjectClassAttributesWithRegions(const UnsubscribeObjectClassAttributesWithRegions& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void UnsubscribeObjectClassAttributesWithRegions::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+UnsubscribeObjectClassAttributesWithRegions::~UnsubscribeObjectClassAttributesWithRegions() {
+  SharedDtor();
+}
+
+void UnsubscribeObjectClassAttributesWithRegions::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void UnsubscribeObjectClassAttributesWithRegions::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* UnsubscribeObjectClassAttributesWithRegions::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return UnsubscribeObjectClassAttributesWithRegions_descriptor_;
+}
+
+const UnsubscribeObjectClassAttributesWithRegions& UnsubscribeObjectClassAttributesWithRegions::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+UnsubscribeObjectClassAttributesWithRegions* UnsubscribeObjectClassAttributesWithRegions::default_instance_ = NULL;
+
+UnsubscribeObjectClassAttributesWithRegions* UnsubscribeObjectClassAttributesWithRegions::New() const {
+  return new UnsubscribeObjectClassAttributesWithRegions;
+}
+
+void UnsubscribeObjectClassAttributesWithRegions::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+  }
+  attributeregionassociations_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool UnsubscribeObjectClassAttributesWithRegions::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_attributeRegionAssociations;
+        break;
+      }
+
+      // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_attributeRegionAssociations:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_attributeregionassociations()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_attributeRegionAssociations;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void UnsubscribeObjectClassAttributesWithRegions::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->attributeregionassociations(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* UnsubscribeObjectClassAttributesWithRegions::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->attributeregionassociations(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int UnsubscribeObjectClassAttributesWithRegions::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+  }
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+  total_size += 1 * this->attributeregionassociations_size();
+  for (int i = 0; i < this->attributeregionassociations_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->attributeregionassociations(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void UnsubscribeObjectClassAttributesWithRegions::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const UnsubscribeObjectClassAttributesWithRegions* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const UnsubscribeObjectClassAttributesWithRegions*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void UnsubscribeObjectClassAttributesWithRegions::MergeFrom(const UnsubscribeObjectClassAttributesWithRegions& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributeregionassociations_.MergeFrom(from.attributeregionassociations_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void UnsubscribeObjectClassAttributesWithRegions::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void UnsubscribeObjectClassAttributesWithRegions::CopyFrom(const UnsubscribeObjectClassAttributesWithRegions& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool UnsubscribeObjectClassAttributesWithRegions::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  for (int i = 0; i < attributeregionassociations_size(); i++) {
+    if (!this->attributeregionassociations(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void UnsubscribeObjectClassAttributesWithRegions::Swap(UnsubscribeObjectClassAttributesWithRegions* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    attributeregionassociations_.Swap(&other->attributeregionassociations_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata UnsubscribeObjectClassAttributesWithRegions::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = UnsubscribeObjectClassAttributesWithRegions_descriptor_;
+  metadata.reflection = UnsubscribeObjectClassAttributesWithRegions_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int SubscribeInteractionClassWithRegions::kInteractionClassHandleFieldNumber;
+const int SubscribeInteractionClassWithRegions::kPassiveFieldNumber;
+const int SubscribeInteractionClassWithRegions::kRegionHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+SubscribeInteractionClassWithRegions::SubscribeInteractionClassWithRegions()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void SubscribeInteractionClassWithRegions::InitAsDefaultInstance() {
+}
+
+SubscribeInteractionClassWithRegions::SubscribeInteractionClassWithRegions(const SubscribeInteractionClassWithRegions& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void SubscribeInteractionClassWithRegions::SharedCtor() {
+  _cached_size_ = 0;
+  interactionclasshandle_ = 0u;
+  passive_ = false;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+SubscribeInteractionClassWithRegions::~SubscribeInteractionClassWithRegions() {
+  SharedDtor();
+}
+
+void SubscribeInteractionClassWithRegions::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void SubscribeInteractionClassWithRegions::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* SubscribeInteractionClassWithRegions::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return SubscribeInteractionClassWithRegions_descriptor_;
+}
+
+const SubscribeInteractionClassWithRegions& SubscribeInteractionClassWithRegions::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+SubscribeInteractionClassWithRegions* SubscribeInteractionClassWithRegions::default_instance_ = NULL;
+
+SubscribeInteractionClassWithRegions* SubscribeInteractionClassWithRegions::New() const {
+  return new SubscribeInteractionClassWithRegions;
+}
+
+void SubscribeInteractionClassWithRegions::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    interactionclasshandle_ = 0u;
+    passive_ = false;
+  }
+  regionhandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool SubscribeInteractionClassWithRegions::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 interactionClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &interactionclasshandle_)));
+          set_has_interactionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_passive;
+        break;
+      }
+
+      // required bool passive = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_passive:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &passive_)));
+          set_has_passive();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_regionHandles;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.RegionHandle regionHandles = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_regionHandles:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_regionhandles()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_regionHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void SubscribeInteractionClassWithRegions::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->interactionclasshandle(), output);
+  }
+
+  // required bool passive = 2;
+  if (has_passive()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(2, this->passive(), output);
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 3;
+  for (int i = 0; i < this->regionhandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->regionhandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* SubscribeInteractionClassWithRegions::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->interactionclasshandle(), target);
+  }
+
+  // required bool passive = 2;
+  if (has_passive()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(2, this->passive(), target);
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 3;
+  for (int i = 0; i < this->regionhandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->regionhandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int SubscribeInteractionClassWithRegions::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 interactionClassHandle = 1;
+    if (has_interactionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->interactionclasshandle());
+    }
+
+    // required bool passive = 2;
+    if (has_passive()) {
+      total_size += 1 + 1;
+    }
+
+  }
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 3;
+  total_size += 1 * this->regionhandles_size();
+  for (int i = 0; i < this->regionhandles_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->regionhandles(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void SubscribeInteractionClassWithRegions::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const SubscribeInteractionClassWithRegions* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const SubscribeInteractionClassWithRegions*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void SubscribeInteractionClassWithRegions::MergeFrom(const SubscribeInteractionClassWithRegions& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  regionhandles_.MergeFrom(from.regionhandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_interactionclasshandle()) {
+      set_interactionclasshandle(from.interactionclasshandle());
+    }
+    if (from.has_passive()) {
+      set_passive(from.passive());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void SubscribeInteractionClassWithRegions::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void SubscribeInteractionClassWithRegions::CopyFrom(const SubscribeInteractionClassWithRegions& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool SubscribeInteractionClassWithRegions::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  for (int i = 0; i < regionhandles_size(); i++) {
+    if (!this->regionhandles(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void SubscribeInteractionClassWithRegions::Swap(SubscribeInteractionClassWithRegions* other) {
+  if (other != this) {
+    std::swap(interactionclasshandle_, other->interactionclasshandle_);
+    std::swap(passive_, other->passive_);
+    regionhandles_.Swap(&other->regionhandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata SubscribeInteractionClassWithRegions::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = SubscribeInteractionClassWithRegions_descriptor_;
+  metadata.reflection = SubscribeInteractionClassWithRegions_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int UnsubscribeInteractionClassWithRegions::kInteractionClassHandleFieldNumber;
+const int UnsubscribeInteractionClassWithRegions::kRegionHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+UnsubscribeInteractionClassWithRegions::UnsubscribeInteractionClassWithRegions()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void UnsubscribeInteractionClassWithRegions::InitAsDefaultInstance() {
+}
+
+UnsubscribeInteractionClassWithRegions::UnsubscribeInteractionClassWithRegions(const UnsubscribeInteractionClassWithRegions& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void UnsubscribeInteractionClassWithRegions::SharedCtor() {
+  _cached_size_ = 0;
+  interactionclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+UnsubscribeInteractionClassWithRegions::~UnsubscribeInteractionClassWithRegions() {
+  SharedDtor();
+}
+
+void UnsubscribeInteractionClassWithRegions::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void UnsubscribeInteractionClassWithRegions::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* UnsubscribeInteractionClassWithRegions::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return UnsubscribeInteractionClassWithRegions_descriptor_;
+}
+
+const UnsubscribeInteractionClassWithRegions& UnsubscribeInteractionClassWithRegions::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+UnsubscribeInteractionClassWithRegions* UnsubscribeInteractionClassWithRegions::default_instance_ = NULL;
+
+UnsubscribeInteractionClassWithRegions* UnsubscribeInteractionClassWithRegions::New() const {
+  return new UnsubscribeInteractionClassWithRegions;
+}
+
+void UnsubscribeInteractionClassWithRegions::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    interactionclasshandle_ = 0u;
+  }
+  regionhandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool UnsubscribeInteractionClassWithRegions::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 interactionClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &interactionclasshandle_)));
+          set_has_interactionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_regionHandles;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_regionHandles:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_regionhandles()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_regionHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void UnsubscribeInteractionClassWithRegions::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->interactionclasshandle(), output);
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+  for (int i = 0; i < this->regionhandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->regionhandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* UnsubscribeInteractionClassWithRegions::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->interactionclasshandle(), target);
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+  for (int i = 0; i < this->regionhandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->regionhandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int UnsubscribeInteractionClassWithRegions::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 interactionClassHandle = 1;
+    if (has_interactionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->interactionclasshandle());
+    }
+
+  }
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+  total_size += 1 * this->regionhandles_size();
+  for (int i = 0; i < this->regionhandles_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->regionhandles(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void UnsubscribeInteractionClassWithRegions::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const UnsubscribeInteractionClassWithRegions* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const UnsubscribeInteractionClassWithRegions*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void UnsubscribeInteractionClassWithRegions::MergeFrom(const UnsubscribeInteractionClassWithRegions& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  regionhandles_.MergeFrom(from.regionhandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_interactionclasshandle()) {
+      set_interactionclasshandle(from.interactionclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void UnsubscribeInteractionClassWithRegions::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void UnsubscribeInteractionClassWithRegions::CopyFrom(const UnsubscribeInteractionClassWithRegions& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool UnsubscribeInteractionClassWithRegions::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  for (int i = 0; i < regionhandles_size(); i++) {
+    if (!this->regionhandles(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void UnsubscribeInteractionClassWithRegions::Swap(UnsubscribeInteractionClassWithRegions* other) {
+  if (other != this) {
+    std::swap(interactionclasshandle_, other->interactionclasshandle_);
+    regionhandles_.Swap(&other->regionhandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata UnsubscribeInteractionClassWithRegions::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = UnsubscribeInteractionClassWithRegions_descriptor_;
+  metadata.reflection = UnsubscribeInteractionClassWithRegions_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+QueryFederationSaveStatus::QueryFederationSaveStatus()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void QueryFederationSaveStatus::InitAsDefaultInstance() {
+}
+
+QueryFederationSaveStatus::QueryFederationSaveStatus(const QueryFederationSaveStatus& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void QueryFederationSaveStatus::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+QueryFederationSaveStatus::~QueryFederationSaveStatus() {
+  SharedDtor();
+}
+
+void QueryFederationSaveStatus::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void QueryFederationSaveStatus::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* QueryFederationSaveStatus::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return QueryFederationSaveStatus_descriptor_;
+}
+
+const QueryFederationSaveStatus& QueryFederationSaveStatus::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+QueryFederationSaveStatus* QueryFederationSaveStatus::default_instance_ = NULL;
+
+QueryFederationSaveStatus* QueryFederationSaveStatus::New() const {
+  return new QueryFederationSaveStatus;
+}
+
+void QueryFederationSaveStatus::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool QueryFederationSaveStatus::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void QueryFederationSaveStatus::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* QueryFederationSaveStatus::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int QueryFederationSaveStatus::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void QueryFederationSaveStatus::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const QueryFederationSaveStatus* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const QueryFederationSaveStatus*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void QueryFederationSaveStatus::MergeFrom(const QueryFederationSaveStatus& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void QueryFederationSaveStatus::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void QueryFederationSaveStatus::CopyFrom(const QueryFederationSaveStatus& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool QueryFederationSaveStatus::IsInitialized() const {
+
+  return true;
+}
+
+void QueryFederationSaveStatus::Swap(QueryFederationSaveStatus* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata QueryFederationSaveStatus::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = QueryFederationSaveStatus_descriptor_;
+  metadata.reflection = QueryFederationSaveStatus_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+QueryFederationRestoreStatus::QueryFederationRestoreStatus()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void QueryFederationRestoreStatus::InitAsDefaultInstance() {
+}
+
+QueryFederationRestoreStatus::QueryFederationRestoreStatus(const QueryFederationRestoreStatus& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void QueryFederationRestoreStatus::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+QueryFederationRestoreStatus::~QueryFederationRestoreStatus() {
+  SharedDtor();
+}
+
+void QueryFederationRestoreStatus::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void QueryFederationRestoreStatus::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* QueryFederationRestoreStatus::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return QueryFederationRestoreStatus_descriptor_;
+}
+
+const QueryFederationRestoreStatus& QueryFederationRestoreStatus::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+QueryFederationRestoreStatus* QueryFederationRestoreStatus::default_instance_ = NULL;
+
+QueryFederationRestoreStatus* QueryFederationRestoreStatus::New() const {
+  return new QueryFederationRestoreStatus;
+}
+
+void QueryFederationRestoreStatus::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool QueryFederationRestoreStatus::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void QueryFederationRestoreStatus::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* QueryFederationRestoreStatus::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int QueryFederationRestoreStatus::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void QueryFederationRestoreStatus::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const QueryFederationRestoreStatus* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const QueryFederationRestoreStatus*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void QueryFederationRestoreStatus::MergeFrom(const QueryFederationRestoreStatus& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void QueryFederationRestoreStatus::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void QueryFederationRestoreStatus::CopyFrom(const QueryFederationRestoreStatus& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool QueryFederationRestoreStatus::IsInitialized() const {
+
+  return true;
+}
+
+void QueryFederationRestoreStatus::Swap(QueryFederationRestoreStatus* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata QueryFederationRestoreStatus::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = QueryFederationRestoreStatus_descriptor_;
+  metadata.reflection = QueryFederationRestoreStatus_reflection_;
+  return metadata;
+}
+
+
+// @@protoc_insertion_point(namespace_scope)
+
+}  // namespace proto
+}  // namespace messages
+}  // namespace rti
+}  // namespace ohla
+
+// @@protoc_insertion_point(global_scope)
@@ -0,0 +1,12850 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: FederationExecutionMessageProtos.proto
+
+#ifndef PROTOBUF_FederationExecutionMessageProtos_2eproto__INCLUDED
+#define PROTOBUF_FederationExecutionMessageProtos_2eproto__INCLUDED
+
+#include <string>
+
+#include <google/protobuf/stubs/common.h>
+
+#if GOOGLE_PROTOBUF_VERSION < 2005000
+#error This file was generated by a newer version of protoc which is
+#error incompatible with your Protocol Buffer headers.  Please update
+#error your headers.
+#endif
+#if 2005000 < GOOGLE_PROTOBUF_MIN_PROTOC_VERSION
+#error This file was generated by an older version of protoc which is
+#error incompatible with your Protocol Buffer headers.  Please
+#error regenerate this file with a newer version of protoc.
+#endif
+
+#include <google/protobuf/generated_message_util.h>
+#include <google/protobuf/message.h>
+#include <google/protobuf/repeated_field.h>
+#include <google/protobuf/extension_set.h>
+#include <google/protobuf/unknown_field_set.h>
+#include "OHLAProtos.pb.h"
+#include "MessageProtos.pb.h"
+// @@protoc_insertion_point(includes)
+
+namespace ohla {
+namespace rti {
+namespace messages {
+namespace proto {
+
+// Internal implementation detail -- do not call these.
+void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+class ResignFederationExecution;
+class RegisterFederationSynchronizationPoint;
+class SynchronizationPointAchieved;
+class RequestFederationSave;
+class AbortFederationSave;
+class FederateSaveBegun;
+class FederateSaveComplete;
+class FederateSaveNotComplete;
+class RequestFederationRestore;
+class AbortFederationRestore;
+class FederateRestoreComplete;
+class FederateRestoreNotComplete;
+class PublishObjectClassAttributes;
+class UnpublishObjectClass;
+class UnpublishObjectClassAttributes;
+class PublishInteractionClass;
+class UnpublishInteractionClass;
+class SubscribeObjectClassAttributes;
+class UnsubscribeObjectClassAttributes;
+class SubscribeInteractionClass;
+class UnsubscribeInteractionClass;
+class ReserveObjectInstanceName;
+class ReleaseObjectInstanceName;
+class ReserveMultipleObjectInstanceName;
+class ReleaseMultipleObjectInstanceName;
+class AttributeRegionAssociation;
+class RegisterObjectInstance;
+class RegisterObjectInstanceWithRegions;
+class UpdateAttributeValues;
+class SendInteraction;
+class DeleteObjectInstance;
+class LocalDeleteObjectInstance;
+class RequestObjectInstanceAttributeValueUpdate;
+class RequestObjectClassAttributeValueUpdate;
+class RequestObjectClassAttributeValueUpdateWithRegions;
+class SetAutomaticResignDirective;
+class GetFederateHandle;
+class GetFederateName;
+class GetUpdateRateValueForAttribute;
+class QueryInteractionTransportationType;
+class UnconditionalAttributeOwnershipDivestiture;
+class NegotiatedAttributeOwnershipDivestiture;
+class ConfirmDivestiture;
+class AttributeOwnershipAcquisition;
+class AttributeOwnershipAcquisitionIfAvailable;
+class AttributeOwnershipDivestitureIfWanted;
+class CancelNegotiatedAttributeOwnershipDivestiture;
+class CancelAttributeOwnershipAcquisition;
+class QueryAttributeOwnership;
+class EnableTimeRegulation;
+class DisableTimeRegulation;
+class EnableTimeConstrained;
+class DisableTimeConstrained;
+class TimeAdvanceRequest;
+class TimeAdvanceRequestAvailable;
+class NextMessageRequest;
+class NextMessageRequestAvailable;
+class FlushQueueRequest;
+class QueryGALT;
+class QueryLITS;
+class ModifyLookahead;
+class Retract;
+class CreateRegion;
+class CommitRegionModifications;
+class CommitRegionModifications_RegionModification;
+class DeleteRegion;
+class AssociateRegionsForUpdates;
+class UnassociateRegionsForUpdates;
+class SubscribeObjectClassAttributesWithRegions;
+class UnsubscribeObjectClassAttributesWithRegions;
+class SubscribeInteractionClassWithRegions;
+class UnsubscribeInteractionClassWithRegions;
+class QueryFederationSaveStatus;
+class QueryFederationRestoreStatus;
+
+// ===================================================================
+
+class ResignFederationExecution : public ::google::protobuf::Message {
+ public:
+  ResignFederationExecution();
+  virtual ~ResignFederationExecution();
+
+  ResignFederationExecution(const ResignFederationExecution& from);
+
+  inline ResignFederationExecution& operator=(const ResignFederationExecution& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ResignFederationExecution& default_instance();
+
+  void Swap(ResignFederationExecution* other);
+
+  // implements Message ----------------------------------------------
+
+  ResignFederationExecution* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ResignFederationExecution& from);
+  void MergeFrom(const ResignFederationExecution& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ResignAction resignAction = 1;
+  inline bool has_resignaction() const;
+  inline void clear_resignaction();
+  static const int kResignActionFieldNumber = 1;
+  inline ::ohla::rti::proto::ResignAction resignaction() const;
+  inline void set_resignaction(::ohla::rti::proto::ResignAction value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ResignFederationExecution)
+ private:
+  inline void set_has_resignaction();
+  inline void clear_has_resignaction();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int resignaction_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ResignFederationExecution* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RegisterFederationSynchronizationPoint : public ::google::protobuf::Message {
+ public:
+  RegisterFederationSynchronizationPoint();
+  virtual ~RegisterFederationSynchronizationPoint();
+
+  RegisterFederationSynchronizationPoint(const RegisterFederationSynchronizationPoint& from);
+
+  inline RegisterFederationSynchronizationPoint& operator=(const RegisterFederationSynchronizationPoint& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RegisterFederationSynchronizationPoint& default_instance();
+
+  void Swap(RegisterFederationSynchronizationPoint* other);
+
+  // implements Message ----------------------------------------------
+
+  RegisterFederationSynchronizationPoint* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RegisterFederationSynchronizationPoint& from);
+  void MergeFrom(const RegisterFederationSynchronizationPoint& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string label = 1;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 1;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // optional bytes tag = 2;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 2;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // repeated uint32 federateHandles = 3;
+  inline int federatehandles_size() const;
+  inline void clear_federatehandles();
+  static const int kFederateHandlesFieldNumber = 3;
+  inline ::google::protobuf::uint32 federatehandles(int index) const;
+  inline void set_federatehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_federatehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      federatehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_federatehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RegisterFederationSynchronizationPoint)
+ private:
+  inline void set_has_label();
+  inline void clear_has_label();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* label_;
+  ::std::string* tag_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > federatehandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RegisterFederationSynchronizationPoint* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class SynchronizationPointAchieved : public ::google::protobuf::Message {
+ public:
+  SynchronizationPointAchieved();
+  virtual ~SynchronizationPointAchieved();
+
+  SynchronizationPointAchieved(const SynchronizationPointAchieved& from);
+
+  inline SynchronizationPointAchieved& operator=(const SynchronizationPointAchieved& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const SynchronizationPointAchieved& default_instance();
+
+  void Swap(SynchronizationPointAchieved* other);
+
+  // implements Message ----------------------------------------------
+
+  SynchronizationPointAchieved* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const SynchronizationPointAchieved& from);
+  void MergeFrom(const SynchronizationPointAchieved& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string label = 1;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 1;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // required bool successful = 2;
+  inline bool has_successful() const;
+  inline void clear_successful();
+  static const int kSuccessfulFieldNumber = 2;
+  inline bool successful() const;
+  inline void set_successful(bool value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.SynchronizationPointAchieved)
+ private:
+  inline void set_has_label();
+  inline void clear_has_label();
+  inline void set_has_successful();
+  inline void clear_has_successful();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* label_;
+  bool successful_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static SynchronizationPointAchieved* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestFederationSave : public ::google::protobuf::Message {
+ public:
+  RequestFederationSave();
+  virtual ~RequestFederationSave();
+
+  RequestFederationSave(const RequestFederationSave& from);
+
+  inline RequestFederationSave& operator=(const RequestFederationSave& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestFederationSave& default_instance();
+
+  void Swap(RequestFederationSave* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestFederationSave* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestFederationSave& from);
+  void MergeFrom(const RequestFederationSave& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // required string label = 2;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 2;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // optional bytes time = 3;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 3;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestFederationSave)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_label();
+  inline void clear_has_label();
+  inline void set_has_time();
+  inline void clear_has_time();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::std::string* label_;
+  ::std::string* time_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestFederationSave* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AbortFederationSave : public ::google::protobuf::Message {
+ public:
+  AbortFederationSave();
+  virtual ~AbortFederationSave();
+
+  AbortFederationSave(const AbortFederationSave& from);
+
+  inline AbortFederationSave& operator=(const AbortFederationSave& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AbortFederationSave& default_instance();
+
+  void Swap(AbortFederationSave* other);
+
+  // implements Message ----------------------------------------------
+
+  AbortFederationSave* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AbortFederationSave& from);
+  void MergeFrom(const AbortFederationSave& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AbortFederationSave)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AbortFederationSave* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateSaveBegun : public ::google::protobuf::Message {
+ public:
+  FederateSaveBegun();
+  virtual ~FederateSaveBegun();
+
+  FederateSaveBegun(const FederateSaveBegun& from);
+
+  inline FederateSaveBegun& operator=(const FederateSaveBegun& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateSaveBegun& default_instance();
+
+  void Swap(FederateSaveBegun* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateSaveBegun* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateSaveBegun& from);
+  void MergeFrom(const FederateSaveBegun& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederateSaveBegun)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateSaveBegun* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateSaveComplete : public ::google::protobuf::Message {
+ public:
+  FederateSaveComplete();
+  virtual ~FederateSaveComplete();
+
+  FederateSaveComplete(const FederateSaveComplete& from);
+
+  inline FederateSaveComplete& operator=(const FederateSaveComplete& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateSaveComplete& default_instance();
+
+  void Swap(FederateSaveComplete* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateSaveComplete* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateSaveComplete& from);
+  void MergeFrom(const FederateSaveComplete& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederateSaveComplete)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateSaveComplete* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateSaveNotComplete : public ::google::protobuf::Message {
+ public:
+  FederateSaveNotComplete();
+  virtual ~FederateSaveNotComplete();
+
+  FederateSaveNotComplete(const FederateSaveNotComplete& from);
+
+  inline FederateSaveNotComplete& operator=(const FederateSaveNotComplete& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateSaveNotComplete& default_instance();
+
+  void Swap(FederateSaveNotComplete* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateSaveNotComplete* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateSaveNotComplete& from);
+  void MergeFrom(const FederateSaveNotComplete& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederateSaveNotComplete)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateSaveNotComplete* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestFederationRestore : public ::google::protobuf::Message {
+ public:
+  RequestFederationRestore();
+  virtual ~RequestFederationRestore();
+
+  RequestFederationRestore(const RequestFederationRestore& from);
+
+  inline RequestFederationRestore& operator=(const RequestFederationRestore& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestFederationRestore& default_instance();
+
+  void Swap(RequestFederationRestore* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestFederationRestore* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestFederationRestore& from);
+  void MergeFrom(const RequestFederationRestore& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // required string label = 2;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 2;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestFederationRestore)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_label();
+  inline void clear_has_label();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::std::string* label_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestFederationRestore* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AbortFederationRestore : public ::google::protobuf::Message {
+ public:
+  AbortFederationRestore();
+  virtual ~AbortFederationRestore();
+
+  AbortFederationRestore(const AbortFederationRestore& from);
+
+  inline AbortFederationRestore& operator=(const AbortFederationRestore& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AbortFederationRestore& default_instance();
+
+  void Swap(AbortFederationRestore* other);
+
+  // implements Message ----------------------------------------------
+
+  AbortFederationRestore* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AbortFederationRestore& from);
+  void MergeFrom(const AbortFederationRestore& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AbortFederationRestore)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AbortFederationRestore* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateRestoreComplete : public ::google::protobuf::Message {
+ public:
+  FederateRestoreComplete();
+  virtual ~FederateRestoreComplete();
+
+  FederateRestoreComplete(const FederateRestoreComplete& from);
+
+  inline FederateRestoreComplete& operator=(const FederateRestoreComplete& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateRestoreComplete& default_instance();
+
+  void Swap(FederateRestoreComplete* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateRestoreComplete* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateRestoreComplete& from);
+  void MergeFrom(const FederateRestoreComplete& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederateRestoreComplete)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateRestoreComplete* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateRestoreNotComplete : public ::google::protobuf::Message {
+ public:
+  FederateRestoreNotComplete();
+  virtual ~FederateRestoreNotComplete();
+
+  FederateRestoreNotComplete(const FederateRestoreNotComplete& from);
+
+  inline FederateRestoreNotComplete& operator=(const FederateRestoreNotComplete& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateRestoreNotComplete& default_instance();
+
+  void Swap(FederateRestoreNotComplete* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateRestoreNotComplete* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateRestoreNotComplete& from);
+  void MergeFrom(const FederateRestoreNotComplete& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederateRestoreNotComplete)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateRestoreNotComplete* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class PublishObjectClassAttributes : public ::google::protobuf::Message {
+ public:
+  PublishObjectClassAttributes();
+  virtual ~PublishObjectClassAttributes();
+
+  PublishObjectClassAttributes(const PublishObjectClassAttributes& from);
+
+  inline PublishObjectClassAttributes& operator=(const PublishObjectClassAttributes& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const PublishObjectClassAttributes& default_instance();
+
+  void Swap(PublishObjectClassAttributes* other);
+
+  // implements Message ----------------------------------------------
+
+  PublishObjectClassAttributes* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const PublishObjectClassAttributes& from);
+  void MergeFrom(const PublishObjectClassAttributes& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.PublishObjectClassAttributes)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::google::protobuf::uint32 objectclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static PublishObjectClassAttributes* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class UnpublishObjectClass : public ::google::protobuf::Message {
+ public:
+  UnpublishObjectClass();
+  virtual ~UnpublishObjectClass();
+
+  UnpublishObjectClass(const UnpublishObjectClass& from);
+
+  inline UnpublishObjectClass& operator=(const UnpublishObjectClass& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const UnpublishObjectClass& default_instance();
+
+  void Swap(UnpublishObjectClass* other);
+
+  // implements Message ----------------------------------------------
+
+  UnpublishObjectClass* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const UnpublishObjectClass& from);
+  void MergeFrom(const UnpublishObjectClass& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // repeated .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandles = 2;
+  inline int objectinstancehandles_size() const;
+  inline void clear_objectinstancehandles();
+  static const int kObjectInstanceHandlesFieldNumber = 2;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandles(int index) const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandles(int index);
+  inline ::ohla::rti::proto::ObjectInstanceHandle* add_objectinstancehandles();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectInstanceHandle >&
+      objectinstancehandles() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectInstanceHandle >*
+      mutable_objectinstancehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.UnpublishObjectClass)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectInstanceHandle > objectinstancehandles_;
+  ::google::protobuf::uint32 objectclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static UnpublishObjectClass* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class UnpublishObjectClassAttributes : public ::google::protobuf::Message {
+ public:
+  UnpublishObjectClassAttributes();
+  virtual ~UnpublishObjectClassAttributes();
+
+  UnpublishObjectClassAttributes(const UnpublishObjectClassAttributes& from);
+
+  inline UnpublishObjectClassAttributes& operator=(const UnpublishObjectClassAttributes& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const UnpublishObjectClassAttributes& default_instance();
+
+  void Swap(UnpublishObjectClassAttributes* other);
+
+  // implements Message ----------------------------------------------
+
+  UnpublishObjectClassAttributes* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const UnpublishObjectClassAttributes& from);
+  void MergeFrom(const UnpublishObjectClassAttributes& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // repeated .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandles = 3;
+  inline int objectinstancehandles_size() const;
+  inline void clear_objectinstancehandles();
+  static const int kObjectInstanceHandlesFieldNumber = 3;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandles(int index) const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandles(int index);
+  inline ::ohla::rti::proto::ObjectInstanceHandle* add_objectinstancehandles();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectInstanceHandle >&
+      objectinstancehandles() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectInstanceHandle >*
+      mutable_objectinstancehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.UnpublishObjectClassAttributes)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectInstanceHandle > objectinstancehandles_;
+  ::google::protobuf::uint32 objectclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static UnpublishObjectClassAttributes* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class PublishInteractionClass : public ::google::protobuf::Message {
+ public:
+  PublishInteractionClass();
+  virtual ~PublishInteractionClass();
+
+  PublishInteractionClass(const PublishInteractionClass& from);
+
+  inline PublishInteractionClass& operator=(const PublishInteractionClass& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const PublishInteractionClass& default_instance();
+
+  void Swap(PublishInteractionClass* other);
+
+  // implements Message ----------------------------------------------
+
+  PublishInteractionClass* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const PublishInteractionClass& from);
+  void MergeFrom(const PublishInteractionClass& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 interactionClassHandle = 1;
+  inline bool has_interactionclasshandle() const;
+  inline void clear_interactionclasshandle();
+  static const int kInteractionClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 interactionclasshandle() const;
+  inline void set_interactionclasshandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.PublishInteractionClass)
+ private:
+  inline void set_has_interactionclasshandle();
+  inline void clear_has_interactionclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 interactionclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static PublishInteractionClass* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class UnpublishInteractionClass : public ::google::protobuf::Message {
+ public:
+  UnpublishInteractionClass();
+  virtual ~UnpublishInteractionClass();
+
+  UnpublishInteractionClass(const UnpublishInteractionClass& from);
+
+  inline UnpublishInteractionClass& operator=(const UnpublishInteractionClass& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const UnpublishInteractionClass& default_instance();
+
+  void Swap(UnpublishInteractionClass* other);
+
+  // implements Message ----------------------------------------------
+
+  UnpublishInteractionClass* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const UnpublishInteractionClass& from);
+  void MergeFrom(const UnpublishInteractionClass& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 interactionClassHandle = 1;
+  inline bool has_interactionclasshandle() const;
+  inline void clear_interactionclasshandle();
+  static const int kInteractionClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 interactionclasshandle() const;
+  inline void set_interactionclasshandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.UnpublishInteractionClass)
+ private:
+  inline void set_has_interactionclasshandle();
+  inline void clear_has_interactionclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 interactionclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static UnpublishInteractionClass* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class SubscribeObjectClassAttributes : public ::google::protobuf::Message {
+ public:
+  SubscribeObjectClassAttributes();
+  virtual ~SubscribeObjectClassAttributes();
+
+  SubscribeObjectClassAttributes(const SubscribeObjectClassAttributes& from);
+
+  inline SubscribeObjectClassAttributes& operator=(const SubscribeObjectClassAttributes& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const SubscribeObjectClassAttributes& default_instance();
+
+  void Swap(SubscribeObjectClassAttributes* other);
+
+  // implements Message ----------------------------------------------
+
+  SubscribeObjectClassAttributes* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const SubscribeObjectClassAttributes& from);
+  void MergeFrom(const SubscribeObjectClassAttributes& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // required bool passive = 3;
+  inline bool has_passive() const;
+  inline void clear_passive();
+  static const int kPassiveFieldNumber = 3;
+  inline bool passive() const;
+  inline void set_passive(bool value);
+
+  // optional string updateRateDesignator = 4;
+  inline bool has_updateratedesignator() const;
+  inline void clear_updateratedesignator();
+  static const int kUpdateRateDesignatorFieldNumber = 4;
+  inline const ::std::string& updateratedesignator() const;
+  inline void set_updateratedesignator(const ::std::string& value);
+  inline void set_updateratedesignator(const char* value);
+  inline void set_updateratedesignator(const char* value, size_t size);
+  inline ::std::string* mutable_updateratedesignator();
+  inline ::std::string* release_updateratedesignator();
+  inline void set_allocated_updateratedesignator(::std::string* updateratedesignator);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.SubscribeObjectClassAttributes)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+  inline void set_has_passive();
+  inline void clear_has_passive();
+  inline void set_has_updateratedesignator();
+  inline void clear_has_updateratedesignator();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::google::protobuf::uint32 objectclasshandle_;
+  bool passive_;
+  ::std::string* updateratedesignator_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static SubscribeObjectClassAttributes* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class UnsubscribeObjectClassAttributes : public ::google::protobuf::Message {
+ public:
+  UnsubscribeObjectClassAttributes();
+  virtual ~UnsubscribeObjectClassAttributes();
+
+  UnsubscribeObjectClassAttributes(const UnsubscribeObjectClassAttributes& from);
+
+  inline UnsubscribeObjectClassAttributes& operator=(const UnsubscribeObjectClassAttributes& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const UnsubscribeObjectClassAttributes& default_instance();
+
+  void Swap(UnsubscribeObjectClassAttributes* other);
+
+  // implements Message ----------------------------------------------
+
+  UnsubscribeObjectClassAttributes* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const UnsubscribeObjectClassAttributes& from);
+  void MergeFrom(const UnsubscribeObjectClassAttributes& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.UnsubscribeObjectClassAttributes)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::google::protobuf::uint32 objectclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static UnsubscribeObjectClassAttributes* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class SubscribeInteractionClass : public ::google::protobuf::Message {
+ public:
+  SubscribeInteractionClass();
+  virtual ~SubscribeInteractionClass();
+
+  SubscribeInteractionClass(const SubscribeInteractionClass& from);
+
+  inline SubscribeInteractionClass& operator=(const SubscribeInteractionClass& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const SubscribeInteractionClass& default_instance();
+
+  void Swap(SubscribeInteractionClass* other);
+
+  // implements Message ----------------------------------------------
+
+  SubscribeInteractionClass* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const SubscribeInteractionClass& from);
+  void MergeFrom(const SubscribeInteractionClass& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 interactionClassHandle = 1;
+  inline bool has_interactionclasshandle() const;
+  inline void clear_interactionclasshandle();
+  static const int kInteractionClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 interactionclasshandle() const;
+  inline void set_interactionclasshandle(::google::protobuf::uint32 value);
+
+  // required bool passive = 2;
+  inline bool has_passive() const;
+  inline void clear_passive();
+  static const int kPassiveFieldNumber = 2;
+  inline bool passive() const;
+  inline void set_passive(bool value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.SubscribeInteractionClass)
+ private:
+  inline void set_has_interactionclasshandle();
+  inline void clear_has_interactionclasshandle();
+  inline void set_has_passive();
+  inline void clear_has_passive();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 interactionclasshandle_;
+  bool passive_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static SubscribeInteractionClass* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class UnsubscribeInteractionClass : public ::google::protobuf::Message {
+ public:
+  UnsubscribeInteractionClass();
+  virtual ~UnsubscribeInteractionClass();
+
+  UnsubscribeInteractionClass(const UnsubscribeInteractionClass& from);
+
+  inline UnsubscribeInteractionClass& operator=(const UnsubscribeInteractionClass& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const UnsubscribeInteractionClass& default_instance();
+
+  void Swap(UnsubscribeInteractionClass* other);
+
+  // implements Message ----------------------------------------------
+
+  UnsubscribeInteractionClass* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const UnsubscribeInteractionClass& from);
+  void MergeFrom(const UnsubscribeInteractionClass& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 interactionClassHandle = 1;
+  inline bool has_interactionclasshandle() const;
+  inline void clear_interactionclasshandle();
+  static const int kInteractionClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 interactionclasshandle() const;
+  inline void set_interactionclasshandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.UnsubscribeInteractionClass)
+ private:
+  inline void set_has_interactionclasshandle();
+  inline void clear_has_interactionclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 interactionclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static UnsubscribeInteractionClass* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ReserveObjectInstanceName : public ::google::protobuf::Message {
+ public:
+  ReserveObjectInstanceName();
+  virtual ~ReserveObjectInstanceName();
+
+  ReserveObjectInstanceName(const ReserveObjectInstanceName& from);
+
+  inline ReserveObjectInstanceName& operator=(const ReserveObjectInstanceName& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ReserveObjectInstanceName& default_instance();
+
+  void Swap(ReserveObjectInstanceName* other);
+
+  // implements Message ----------------------------------------------
+
+  ReserveObjectInstanceName* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ReserveObjectInstanceName& from);
+  void MergeFrom(const ReserveObjectInstanceName& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string objectInstanceName = 1;
+  inline bool has_objectinstancename() const;
+  inline void clear_objectinstancename();
+  static const int kObjectInstanceNameFieldNumber = 1;
+  inline const ::std::string& objectinstancename() const;
+  inline void set_objectinstancename(const ::std::string& value);
+  inline void set_objectinstancename(const char* value);
+  inline void set_objectinstancename(const char* value, size_t size);
+  inline ::std::string* mutable_objectinstancename();
+  inline ::std::string* release_objectinstancename();
+  inline void set_allocated_objectinstancename(::std::string* objectinstancename);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ReserveObjectInstanceName)
+ private:
+  inline void set_has_objectinstancename();
+  inline void clear_has_objectinstancename();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* objectinstancename_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ReserveObjectInstanceName* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ReleaseObjectInstanceName : public ::google::protobuf::Message {
+ public:
+  ReleaseObjectInstanceName();
+  virtual ~ReleaseObjectInstanceName();
+
+  ReleaseObjectInstanceName(const ReleaseObjectInstanceName& from);
+
+  inline ReleaseObjectInstanceName& operator=(const ReleaseObjectInstanceName& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ReleaseObjectInstanceName& default_instance();
+
+  void Swap(ReleaseObjectInstanceName* other);
+
+  // implements Message ----------------------------------------------
+
+  ReleaseObjectInstanceName* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ReleaseObjectInstanceName& from);
+  void MergeFrom(const ReleaseObjectInstanceName& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string objectInstanceName = 1;
+  inline bool has_objectinstancename() const;
+  inline void clear_objectinstancename();
+  static const int kObjectInstanceNameFieldNumber = 1;
+  inline const ::std::string& objectinstancename() const;
+  inline void set_objectinstancename(const ::std::string& value);
+  inline void set_objectinstancename(const char* value);
+  inline void set_objectinstancename(const char* value, size_t size);
+  inline ::std::string* mutable_objectinstancename();
+  inline ::std::string* release_objectinstancename();
+  inline void set_allocated_objectinstancename(::std::string* objectinstancename);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ReleaseObjectInstanceName)
+ private:
+  inline void set_has_objectinstancename();
+  inline void clear_has_objectinstancename();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* objectinstancename_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ReleaseObjectInstanceName* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ReserveMultipleObjectInstanceName : public ::google::protobuf::Message {
+ public:
+  ReserveMultipleObjectInstanceName();
+  virtual ~ReserveMultipleObjectInstanceName();
+
+  ReserveMultipleObjectInstanceName(const ReserveMultipleObjectInstanceName& from);
+
+  inline ReserveMultipleObjectInstanceName& operator=(const ReserveMultipleObjectInstanceName& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ReserveMultipleObjectInstanceName& default_instance();
+
+  void Swap(ReserveMultipleObjectInstanceName* other);
+
+  // implements Message ----------------------------------------------
+
+  ReserveMultipleObjectInstanceName* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ReserveMultipleObjectInstanceName& from);
+  void MergeFrom(const ReserveMultipleObjectInstanceName& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated string objectInstanceNames = 1;
+  inline int objectinstancenames_size() const;
+  inline void clear_objectinstancenames();
+  static const int kObjectInstanceNamesFieldNumber = 1;
+  inline const ::std::string& objectinstancenames(int index) const;
+  inline ::std::string* mutable_objectinstancenames(int index);
+  inline void set_objectinstancenames(int index, const ::std::string& value);
+  inline void set_objectinstancenames(int index, const char* value);
+  inline void set_objectinstancenames(int index, const char* value, size_t size);
+  inline ::std::string* add_objectinstancenames();
+  inline void add_objectinstancenames(const ::std::string& value);
+  inline void add_objectinstancenames(const char* value);
+  inline void add_objectinstancenames(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& objectinstancenames() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_objectinstancenames();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ReserveMultipleObjectInstanceName)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::std::string> objectinstancenames_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ReserveMultipleObjectInstanceName* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ReleaseMultipleObjectInstanceName : public ::google::protobuf::Message {
+ public:
+  ReleaseMultipleObjectInstanceName();
+  virtual ~ReleaseMultipleObjectInstanceName();
+
+  ReleaseMultipleObjectInstanceName(const ReleaseMultipleObjectInstanceName& from);
+
+  inline ReleaseMultipleObjectInstanceName& operator=(const ReleaseMultipleObjectInstanceName& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ReleaseMultipleObjectInstanceName& default_instance();
+
+  void Swap(ReleaseMultipleObjectInstanceName* other);
+
+  // implements Message ----------------------------------------------
+
+  ReleaseMultipleObjectInstanceName* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ReleaseMultipleObjectInstanceName& from);
+  void MergeFrom(const ReleaseMultipleObjectInstanceName& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated string objectInstanceNames = 1;
+  inline int objectinstancenames_size() const;
+  inline void clear_objectinstancenames();
+  static const int kObjectInstanceNamesFieldNumber = 1;
+  inline const ::std::string& objectinstancenames(int index) const;
+  inline ::std::string* mutable_objectinstancenames(int index);
+  inline void set_objectinstancenames(int index, const ::std::string& value);
+  inline void set_objectinstancenames(int index, const char* value);
+  inline void set_objectinstancenames(int index, const char* value, size_t size);
+  inline ::std::string* add_objectinstancenames();
+  inline void add_objectinstancenames(const ::std::string& value);
+  inline void add_objectinstancenames(const char* value);
+  inline void add_objectinstancenames(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& objectinstancenames() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_objectinstancenames();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ReleaseMultipleObjectInstanceName)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::std::string> objectinstancenames_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ReleaseMultipleObjectInstanceName* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AttributeRegionAssociation : public ::google::protobuf::Message {
+ public:
+  AttributeRegionAssociation();
+  virtual ~AttributeRegionAssociation();
+
+  AttributeRegionAssociation(const AttributeRegionAssociation& from);
+
+  inline AttributeRegionAssociation& operator=(const AttributeRegionAssociation& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AttributeRegionAssociation& default_instance();
+
+  void Swap(AttributeRegionAssociation* other);
+
+  // implements Message ----------------------------------------------
+
+  AttributeRegionAssociation* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AttributeRegionAssociation& from);
+  void MergeFrom(const AttributeRegionAssociation& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated uint32 attributeHandles = 1;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 1;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+  inline int regionhandles_size() const;
+  inline void clear_regionhandles();
+  static const int kRegionHandlesFieldNumber = 2;
+  inline const ::ohla::rti::proto::RegionHandle& regionhandles(int index) const;
+  inline ::ohla::rti::proto::RegionHandle* mutable_regionhandles(int index);
+  inline ::ohla::rti::proto::RegionHandle* add_regionhandles();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >&
+      regionhandles() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >*
+      mutable_regionhandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AttributeRegionAssociation)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle > regionhandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AttributeRegionAssociation* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RegisterObjectInstance : public ::google::protobuf::Message {
+ public:
+  RegisterObjectInstance();
+  virtual ~RegisterObjectInstance();
+
+  RegisterObjectInstance(const RegisterObjectInstance& from);
+
+  inline RegisterObjectInstance& operator=(const RegisterObjectInstance& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RegisterObjectInstance& default_instance();
+
+  void Swap(RegisterObjectInstance* other);
+
+  // implements Message ----------------------------------------------
+
+  RegisterObjectInstance* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RegisterObjectInstance& from);
+  void MergeFrom(const RegisterObjectInstance& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // required uint32 objectClassHandle = 2;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // required string objectInstanceName = 3;
+  inline bool has_objectinstancename() const;
+  inline void clear_objectinstancename();
+  static const int kObjectInstanceNameFieldNumber = 3;
+  inline const ::std::string& objectinstancename() const;
+  inline void set_objectinstancename(const ::std::string& value);
+  inline void set_objectinstancename(const char* value);
+  inline void set_objectinstancename(const char* value, size_t size);
+  inline ::std::string* mutable_objectinstancename();
+  inline ::std::string* release_objectinstancename();
+  inline void set_allocated_objectinstancename(::std::string* objectinstancename);
+
+  // repeated uint32 publishedAttributeHandles = 4;
+  inline int publishedattributehandles_size() const;
+  inline void clear_publishedattributehandles();
+  static const int kPublishedAttributeHandlesFieldNumber = 4;
+  inline ::google::protobuf::uint32 publishedattributehandles(int index) const;
+  inline void set_publishedattributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_publishedattributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      publishedattributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_publishedattributehandles();
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 5;
+  inline int attributeregionassociations_size() const;
+  inline void clear_attributeregionassociations();
+  static const int kAttributeRegionAssociationsFieldNumber = 5;
+  inline const ::ohla::rti::messages::proto::AttributeRegionAssociation& attributeregionassociations(int index) const;
+  inline ::ohla::rti::messages::proto::AttributeRegionAssociation* mutable_attributeregionassociations(int index);
+  inline ::ohla::rti::messages::proto::AttributeRegionAssociation* add_attributeregionassociations();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >&
+      attributeregionassociations() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >*
+      mutable_attributeregionassociations();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RegisterObjectInstance)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+  inline void set_has_objectinstancename();
+  inline void clear_has_objectinstancename();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::std::string* objectinstancename_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > publishedattributehandles_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation > attributeregionassociations_;
+  ::google::protobuf::uint32 objectclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(5 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RegisterObjectInstance* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RegisterObjectInstanceWithRegions : public ::google::protobuf::Message {
+ public:
+  RegisterObjectInstanceWithRegions();
+  virtual ~RegisterObjectInstanceWithRegions();
+
+  RegisterObjectInstanceWithRegions(const RegisterObjectInstanceWithRegions& from);
+
+  inline RegisterObjectInstanceWithRegions& operator=(const RegisterObjectInstanceWithRegions& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RegisterObjectInstanceWithRegions& default_instance();
+
+  void Swap(RegisterObjectInstanceWithRegions* other);
+
+  // implements Message ----------------------------------------------
+
+  RegisterObjectInstanceWithRegions* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RegisterObjectInstanceWithRegions& from);
+  void MergeFrom(const RegisterObjectInstanceWithRegions& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // required uint32 objectClassHandle = 2;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // optional string objectInstanceName = 3;
+  inline bool has_objectinstancename() const;
+  inline void clear_objectinstancename();
+  static const int kObjectInstanceNameFieldNumber = 3;
+  inline const ::std::string& objectinstancename() const;
+  inline void set_objectinstancename(const ::std::string& value);
+  inline void set_objectinstancename(const char* value);
+  inline void set_objectinstancename(const char* value, size_t size);
+  inline ::std::string* mutable_objectinstancename();
+  inline ::std::string* release_objectinstancename();
+  inline void set_allocated_objectinstancename(::std::string* objectinstancename);
+
+  // repeated uint32 publishedAttributeHandles = 4;
+  inline int publishedattributehandles_size() const;
+  inline void clear_publishedattributehandles();
+  static const int kPublishedAttributeHandlesFieldNumber = 4;
+  inline ::google::protobuf::uint32 publishedattributehandles(int index) const;
+  inline void set_publishedattributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_publishedattributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      publishedattributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_publishedattributehandles();
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 5;
+  inline int attributeregionassociations_size() const;
+  inline void clear_attributeregionassociations();
+  static const int kAttributeRegionAssociationsFieldNumber = 5;
+  inline const ::ohla::rti::messages::proto::AttributeRegionAssociation& attributeregionassociations(int index) const;
+  inline ::ohla::rti::messages::proto::AttributeRegionAssociation* mutable_attributeregionassociations(int index);
+  inline ::ohla::rti::messages::proto::AttributeRegionAssociation* add_attributeregionassociations();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >&
+      attributeregionassociations() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >*
+      mutable_attributeregionassociations();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RegisterObjectInstanceWithRegions)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+  inline void set_has_objectinstancename();
+  inline void clear_has_objectinstancename();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::std::string* objectinstancename_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > publishedattributehandles_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation > attributeregionassociations_;
+  ::google::protobuf::uint32 objectclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(5 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RegisterObjectInstanceWithRegions* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class UpdateAttributeValues : public ::google::protobuf::Message {
+ public:
+  UpdateAttributeValues();
+  virtual ~UpdateAttributeValues();
+
+  UpdateAttributeValues(const UpdateAttributeValues& from);
+
+  inline UpdateAttributeValues& operator=(const UpdateAttributeValues& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const UpdateAttributeValues& default_instance();
+
+  void Swap(UpdateAttributeValues* other);
+
+  // implements Message ----------------------------------------------
+
+  UpdateAttributeValues* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const UpdateAttributeValues& from);
+  void MergeFrom(const UpdateAttributeValues& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated .ohla.rti.messages.proto.AttributeValue attributeValues = 2;
+  inline int attributevalues_size() const;
+  inline void clear_attributevalues();
+  static const int kAttributeValuesFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::AttributeValue& attributevalues(int index) const;
+  inline ::ohla::rti::messages::proto::AttributeValue* mutable_attributevalues(int index);
+  inline ::ohla::rti::messages::proto::AttributeValue* add_attributevalues();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeValue >&
+      attributevalues() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeValue >*
+      mutable_attributevalues();
+
+  // optional bytes tag = 3;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 3;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // optional .ohla.rti.proto.OrderType sentOrderType = 4 [default = RECEIVE];
+  inline bool has_sentordertype() const;
+  inline void clear_sentordertype();
+  static const int kSentOrderTypeFieldNumber = 4;
+  inline ::ohla::rti::proto::OrderType sentordertype() const;
+  inline void set_sentordertype(::ohla::rti::proto::OrderType value);
+
+  // required uint32 transportationTypeHandle = 5;
+  inline bool has_transportationtypehandle() const;
+  inline void clear_transportationtypehandle();
+  static const int kTransportationTypeHandleFieldNumber = 5;
+  inline ::google::protobuf::uint32 transportationtypehandle() const;
+  inline void set_transportationtypehandle(::google::protobuf::uint32 value);
+
+  // optional bytes time = 6;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 6;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 7;
+  inline bool has_messageretractionhandle() const;
+  inline void clear_messageretractionhandle();
+  static const int kMessageRetractionHandleFieldNumber = 7;
+  inline const ::ohla::rti::proto::MessageRetractionHandle& messageretractionhandle() const;
+  inline ::ohla::rti::proto::MessageRetractionHandle* mutable_messageretractionhandle();
+  inline ::ohla::rti::proto::MessageRetractionHandle* release_messageretractionhandle();
+  inline void set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.UpdateAttributeValues)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+  inline void set_has_sentordertype();
+  inline void clear_has_sentordertype();
+  inline void set_has_transportationtypehandle();
+  inline void clear_has_transportationtypehandle();
+  inline void set_has_time();
+  inline void clear_has_time();
+  inline void set_has_messageretractionhandle();
+  inline void clear_has_messageretractionhandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeValue > attributevalues_;
+  ::std::string* tag_;
+  int sentordertype_;
+  ::google::protobuf::uint32 transportationtypehandle_;
+  ::std::string* time_;
+  ::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(7 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static UpdateAttributeValues* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class SendInteraction : public ::google::protobuf::Message {
+ public:
+  SendInteraction();
+  virtual ~SendInteraction();
+
+  SendInteraction(const SendInteraction& from);
+
+  inline SendInteraction& operator=(const SendInteraction& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const SendInteraction& default_instance();
+
+  void Swap(SendInteraction* other);
+
+  // implements Message ----------------------------------------------
+
+  SendInteraction* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const SendInteraction& from);
+  void MergeFrom(const SendInteraction& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 interactionClassHandle = 1;
+  inline bool has_interactionclasshandle() const;
+  inline void clear_interactionclasshandle();
+  static const int kInteractionClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 interactionclasshandle() const;
+  inline void set_interactionclasshandle(::google::protobuf::uint32 value);
+
+  // repeated .ohla.rti.messages.proto.ParameterValue parameterValues = 2;
+  inline int parametervalues_size() const;
+  inline void clear_parametervalues();
+  static const int kParameterValuesFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::ParameterValue& parametervalues(int index) const;
+  inline ::ohla::rti::messages::proto::ParameterValue* mutable_parametervalues(int index);
+  inline ::ohla::rti::messages::proto::ParameterValue* add_parametervalues();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ParameterValue >&
+      parametervalues() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ParameterValue >*
+      mutable_parametervalues();
+
+  // optional bytes tag = 3;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 3;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // optional .ohla.rti.proto.OrderType sentOrderType = 4 [default = RECEIVE];
+  inline bool has_sentordertype() const;
+  inline void clear_sentordertype();
+  static const int kSentOrderTypeFieldNumber = 4;
+  inline ::ohla::rti::proto::OrderType sentordertype() const;
+  inline void set_sentordertype(::ohla::rti::proto::OrderType value);
+
+  // required uint32 transportationTypeHandle = 5;
+  inline bool has_transportationtypehandle() const;
+  inline void clear_transportationtypehandle();
+  static const int kTransportationTypeHandleFieldNumber = 5;
+  inline ::google::protobuf::uint32 transportationtypehandle() const;
+  inline void set_transportationtypehandle(::google::protobuf::uint32 value);
+
+  // optional bytes time = 6;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 6;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 7;
+  inline bool has_messageretractionhandle() const;
+  inline void clear_messageretractionhandle();
+  static const int kMessageRetractionHandleFieldNumber = 7;
+  inline const ::ohla::rti::proto::MessageRetractionHandle& messageretractionhandle() const;
+  inline ::ohla::rti::proto::MessageRetractionHandle* mutable_messageretractionhandle();
+  inline ::ohla::rti::proto::MessageRetractionHandle* release_messageretractionhandle();
+  inline void set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle);
+
+  // repeated .ohla.rti.proto.RegionHandle sentRegionHandles = 8;
+  inline int sentregionhandles_size() const;
+  inline void clear_sentregionhandles();
+  static const int kSentRegionHandlesFieldNumber = 8;
+  inline const ::ohla::rti::proto::RegionHandle& sentregionhandles(int index) const;
+  inline ::ohla::rti::proto::RegionHandle* mutable_sentregionhandles(int index);
+  inline ::ohla::rti::proto::RegionHandle* add_sentregionhandles();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >&
+      sentregionhandles() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >*
+      mutable_sentregionhandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.SendInteraction)
+ private:
+  inline void set_has_interactionclasshandle();
+  inline void clear_has_interactionclasshandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+  inline void set_has_sentordertype();
+  inline void clear_has_sentordertype();
+  inline void set_has_transportationtypehandle();
+  inline void clear_has_transportationtypehandle();
+  inline void set_has_time();
+  inline void clear_has_time();
+  inline void set_has_messageretractionhandle();
+  inline void clear_has_messageretractionhandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ParameterValue > parametervalues_;
+  ::google::protobuf::uint32 interactionclasshandle_;
+  int sentordertype_;
+  ::std::string* tag_;
+  ::std::string* time_;
+  ::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle > sentregionhandles_;
+  ::google::protobuf::uint32 transportationtypehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(8 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static SendInteraction* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class DeleteObjectInstance : public ::google::protobuf::Message {
+ public:
+  DeleteObjectInstance();
+  virtual ~DeleteObjectInstance();
+
+  DeleteObjectInstance(const DeleteObjectInstance& from);
+
+  inline DeleteObjectInstance& operator=(const DeleteObjectInstance& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const DeleteObjectInstance& default_instance();
+
+  void Swap(DeleteObjectInstance* other);
+
+  // implements Message ----------------------------------------------
+
+  DeleteObjectInstance* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const DeleteObjectInstance& from);
+  void MergeFrom(const DeleteObjectInstance& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // optional bytes tag = 2;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 2;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // optional .ohla.rti.proto.OrderType sentOrderType = 3 [default = RECEIVE];
+  inline bool has_sentordertype() const;
+  inline void clear_sentordertype();
+  static const int kSentOrderTypeFieldNumber = 3;
+  inline ::ohla::rti::proto::OrderType sentordertype() const;
+  inline void set_sentordertype(::ohla::rti::proto::OrderType value);
+
+  // optional bytes time = 4;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 4;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 5;
+  inline bool has_messageretractionhandle() const;
+  inline void clear_messageretractionhandle();
+  static const int kMessageRetractionHandleFieldNumber = 5;
+  inline const ::ohla::rti::proto::MessageRetractionHandle& messageretractionhandle() const;
+  inline ::ohla::rti::proto::MessageRetractionHandle* mutable_messageretractionhandle();
+  inline ::ohla::rti::proto::MessageRetractionHandle* release_messageretractionhandle();
+  inline void set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.DeleteObjectInstance)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+  inline void set_has_sentordertype();
+  inline void clear_has_sentordertype();
+  inline void set_has_time();
+  inline void clear_has_time();
+  inline void set_has_messageretractionhandle();
+  inline void clear_has_messageretractionhandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::std::string* tag_;
+  ::std::string* time_;
+  ::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle_;
+  int sentordertype_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(5 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static DeleteObjectInstance* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class LocalDeleteObjectInstance : public ::google::protobuf::Message {
+ public:
+  LocalDeleteObjectInstance();
+  virtual ~LocalDeleteObjectInstance();
+
+  LocalDeleteObjectInstance(const LocalDeleteObjectInstance& from);
+
+  inline LocalDeleteObjectInstance& operator=(const LocalDeleteObjectInstance& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const LocalDeleteObjectInstance& default_instance();
+
+  void Swap(LocalDeleteObjectInstance* other);
+
+  // implements Message ----------------------------------------------
+
+  LocalDeleteObjectInstance* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const LocalDeleteObjectInstance& from);
+  void MergeFrom(const LocalDeleteObjectInstance& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.LocalDeleteObjectInstance)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static LocalDeleteObjectInstance* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestObjectInstanceAttributeValueUpdate : public ::google::protobuf::Message {
+ public:
+  RequestObjectInstanceAttributeValueUpdate();
+  virtual ~RequestObjectInstanceAttributeValueUpdate();
+
+  RequestObjectInstanceAttributeValueUpdate(const RequestObjectInstanceAttributeValueUpdate& from);
+
+  inline RequestObjectInstanceAttributeValueUpdate& operator=(const RequestObjectInstanceAttributeValueUpdate& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestObjectInstanceAttributeValueUpdate& default_instance();
+
+  void Swap(RequestObjectInstanceAttributeValueUpdate* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestObjectInstanceAttributeValueUpdate* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestObjectInstanceAttributeValueUpdate& from);
+  void MergeFrom(const RequestObjectInstanceAttributeValueUpdate& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // optional bytes tag = 3;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 3;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestObjectInstanceAttributeValueUpdate)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::std::string* tag_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestObjectInstanceAttributeValueUpdate* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestObjectClassAttributeValueUpdate : public ::google::protobuf::Message {
+ public:
+  RequestObjectClassAttributeValueUpdate();
+  virtual ~RequestObjectClassAttributeValueUpdate();
+
+  RequestObjectClassAttributeValueUpdate(const RequestObjectClassAttributeValueUpdate& from);
+
+  inline RequestObjectClassAttributeValueUpdate& operator=(const RequestObjectClassAttributeValueUpdate& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestObjectClassAttributeValueUpdate& default_instance();
+
+  void Swap(RequestObjectClassAttributeValueUpdate* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestObjectClassAttributeValueUpdate* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestObjectClassAttributeValueUpdate& from);
+  void MergeFrom(const RequestObjectClassAttributeValueUpdate& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // optional bytes tag = 3;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 3;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestObjectClassAttributeValueUpdate)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::std::string* tag_;
+  ::google::protobuf::uint32 objectclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestObjectClassAttributeValueUpdate* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RequestObjectClassAttributeValueUpdateWithRegions : public ::google::protobuf::Message {
+ public:
+  RequestObjectClassAttributeValueUpdateWithRegions();
+  virtual ~RequestObjectClassAttributeValueUpdateWithRegions();
+
+  RequestObjectClassAttributeValueUpdateWithRegions(const RequestObjectClassAttributeValueUpdateWithRegions& from);
+
+  inline RequestObjectClassAttributeValueUpdateWithRegions& operator=(const RequestObjectClassAttributeValueUpdateWithRegions& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RequestObjectClassAttributeValueUpdateWithRegions& default_instance();
+
+  void Swap(RequestObjectClassAttributeValueUpdateWithRegions* other);
+
+  // implements Message ----------------------------------------------
+
+  RequestObjectClassAttributeValueUpdateWithRegions* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RequestObjectClassAttributeValueUpdateWithRegions& from);
+  void MergeFrom(const RequestObjectClassAttributeValueUpdateWithRegions& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+  inline int attributeregionassociations_size() const;
+  inline void clear_attributeregionassociations();
+  static const int kAttributeRegionAssociationsFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::AttributeRegionAssociation& attributeregionassociations(int index) const;
+  inline ::ohla::rti::messages::proto::AttributeRegionAssociation* mutable_attributeregionassociations(int index);
+  inline ::ohla::rti::messages::proto::AttributeRegionAssociation* add_attributeregionassociations();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >&
+      attributeregionassociations() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >*
+      mutable_attributeregionassociations();
+
+  // optional bytes tag = 3;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 3;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.RequestObjectClassAttributeValueUpdateWithRegions)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation > attributeregionassociations_;
+  ::std::string* tag_;
+  ::google::protobuf::uint32 objectclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RequestObjectClassAttributeValueUpdateWithRegions* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class SetAutomaticResignDirective : public ::google::protobuf::Message {
+ public:
+  SetAutomaticResignDirective();
+  virtual ~SetAutomaticResignDirective();
+
+  SetAutomaticResignDirective(const SetAutomaticResignDirective& from);
+
+  inline SetAutomaticResignDirective& operator=(const SetAutomaticResignDirective& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const SetAutomaticResignDirective& default_instance();
+
+  void Swap(SetAutomaticResignDirective* other);
+
+  // implements Message ----------------------------------------------
+
+  SetAutomaticResignDirective* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const SetAutomaticResignDirective& from);
+  void MergeFrom(const SetAutomaticResignDirective& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ResignAction resignAction = 1;
+  inline bool has_resignaction() const;
+  inline void clear_resignaction();
+  static const int kResignActionFieldNumber = 1;
+  inline ::ohla::rti::proto::ResignAction resignaction() const;
+  inline void set_resignaction(::ohla::rti::proto::ResignAction value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.SetAutomaticResignDirective)
+ private:
+  inline void set_has_resignaction();
+  inline void clear_has_resignaction();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int resignaction_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static SetAutomaticResignDirective* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class GetFederateHandle : public ::google::protobuf::Message {
+ public:
+  GetFederateHandle();
+  virtual ~GetFederateHandle();
+
+  GetFederateHandle(const GetFederateHandle& from);
+
+  inline GetFederateHandle& operator=(const GetFederateHandle& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const GetFederateHandle& default_instance();
+
+  void Swap(GetFederateHandle* other);
+
+  // implements Message ----------------------------------------------
+
+  GetFederateHandle* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const GetFederateHandle& from);
+  void MergeFrom(const GetFederateHandle& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // required string federateName = 2;
+  inline bool has_federatename() const;
+  inline void clear_federatename();
+  static const int kFederateNameFieldNumber = 2;
+  inline const ::std::string& federatename() const;
+  inline void set_federatename(const ::std::string& value);
+  inline void set_federatename(const char* value);
+  inline void set_federatename(const char* value, size_t size);
+  inline ::std::string* mutable_federatename();
+  inline ::std::string* release_federatename();
+  inline void set_allocated_federatename(::std::string* federatename);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.GetFederateHandle)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_federatename();
+  inline void clear_has_federatename();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::std::string* federatename_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static GetFederateHandle* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class GetFederateName : public ::google::protobuf::Message {
+ public:
+  GetFederateName();
+  virtual ~GetFederateName();
+
+  GetFederateName(const GetFederateName& from);
+
+  inline GetFederateName& operator=(const GetFederateName& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const GetFederateName& default_instance();
+
+  void Swap(GetFederateName* other);
+
+  // implements Message ----------------------------------------------
+
+  GetFederateName* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const GetFederateName& from);
+  void MergeFrom(const GetFederateName& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // required uint32 federateHandle = 2;
+  inline bool has_federatehandle() const;
+  inline void clear_federatehandle();
+  static const int kFederateHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 federatehandle() const;
+  inline void set_federatehandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.GetFederateName)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_federatehandle();
+  inline void clear_has_federatehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::google::protobuf::uint32 federatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static GetFederateName* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class GetUpdateRateValueForAttribute : public ::google::protobuf::Message {
+ public:
+  GetUpdateRateValueForAttribute();
+  virtual ~GetUpdateRateValueForAttribute();
+
+  GetUpdateRateValueForAttribute(const GetUpdateRateValueForAttribute& from);
+
+  inline GetUpdateRateValueForAttribute& operator=(const GetUpdateRateValueForAttribute& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const GetUpdateRateValueForAttribute& default_instance();
+
+  void Swap(GetUpdateRateValueForAttribute* other);
+
+  // implements Message ----------------------------------------------
+
+  GetUpdateRateValueForAttribute* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const GetUpdateRateValueForAttribute& from);
+  void MergeFrom(const GetUpdateRateValueForAttribute& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 2;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // required uint32 attributeHandle = 3;
+  inline bool has_attributehandle() const;
+  inline void clear_attributehandle();
+  static const int kAttributeHandleFieldNumber = 3;
+  inline ::google::protobuf::uint32 attributehandle() const;
+  inline void set_attributehandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.GetUpdateRateValueForAttribute)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_attributehandle();
+  inline void clear_has_attributehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::uint32 attributehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static GetUpdateRateValueForAttribute* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class QueryInteractionTransportationType : public ::google::protobuf::Message {
+ public:
+  QueryInteractionTransportationType();
+  virtual ~QueryInteractionTransportationType();
+
+  QueryInteractionTransportationType(const QueryInteractionTransportationType& from);
+
+  inline QueryInteractionTransportationType& operator=(const QueryInteractionTransportationType& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const QueryInteractionTransportationType& default_instance();
+
+  void Swap(QueryInteractionTransportationType* other);
+
+  // implements Message ----------------------------------------------
+
+  QueryInteractionTransportationType* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const QueryInteractionTransportationType& from);
+  void MergeFrom(const QueryInteractionTransportationType& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 interactionClassHandle = 1;
+  inline bool has_interactionclasshandle() const;
+  inline void clear_interactionclasshandle();
+  static const int kInteractionClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 interactionclasshandle() const;
+  inline void set_interactionclasshandle(::google::protobuf::uint32 value);
+
+  // required uint32 federateHandle = 2;
+  inline bool has_federatehandle() const;
+  inline void clear_federatehandle();
+  static const int kFederateHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 federatehandle() const;
+  inline void set_federatehandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.QueryInteractionTransportationType)
+ private:
+  inline void set_has_interactionclasshandle();
+  inline void clear_has_interactionclasshandle();
+  inline void set_has_federatehandle();
+  inline void clear_has_federatehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 interactionclasshandle_;
+  ::google::protobuf::uint32 federatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static QueryInteractionTransportationType* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class UnconditionalAttributeOwnershipDivestiture : public ::google::protobuf::Message {
+ public:
+  UnconditionalAttributeOwnershipDivestiture();
+  virtual ~UnconditionalAttributeOwnershipDivestiture();
+
+  UnconditionalAttributeOwnershipDivestiture(const UnconditionalAttributeOwnershipDivestiture& from);
+
+  inline UnconditionalAttributeOwnershipDivestiture& operator=(const UnconditionalAttributeOwnershipDivestiture& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const UnconditionalAttributeOwnershipDivestiture& default_instance();
+
+  void Swap(UnconditionalAttributeOwnershipDivestiture* other);
+
+  // implements Message ----------------------------------------------
+
+  UnconditionalAttributeOwnershipDivestiture* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const UnconditionalAttributeOwnershipDivestiture& from);
+  void MergeFrom(const UnconditionalAttributeOwnershipDivestiture& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.UnconditionalAttributeOwnershipDivestiture)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static UnconditionalAttributeOwnershipDivestiture* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class NegotiatedAttributeOwnershipDivestiture : public ::google::protobuf::Message {
+ public:
+  NegotiatedAttributeOwnershipDivestiture();
+  virtual ~NegotiatedAttributeOwnershipDivestiture();
+
+  NegotiatedAttributeOwnershipDivestiture(const NegotiatedAttributeOwnershipDivestiture& from);
+
+  inline NegotiatedAttributeOwnershipDivestiture& operator=(const NegotiatedAttributeOwnershipDivestiture& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const NegotiatedAttributeOwnershipDivestiture& default_instance();
+
+  void Swap(NegotiatedAttributeOwnershipDivestiture* other);
+
+  // implements Message ----------------------------------------------
+
+  NegotiatedAttributeOwnershipDivestiture* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const NegotiatedAttributeOwnershipDivestiture& from);
+  void MergeFrom(const NegotiatedAttributeOwnershipDivestiture& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // optional bytes tag = 3;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 3;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.NegotiatedAttributeOwnershipDivestiture)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::std::string* tag_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static NegotiatedAttributeOwnershipDivestiture* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ConfirmDivestiture : public ::google::protobuf::Message {
+ public:
+  ConfirmDivestiture();
+  virtual ~ConfirmDivestiture();
+
+  ConfirmDivestiture(const ConfirmDivestiture& from);
+
+  inline ConfirmDivestiture& operator=(const ConfirmDivestiture& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ConfirmDivestiture& default_instance();
+
+  void Swap(ConfirmDivestiture* other);
+
+  // implements Message ----------------------------------------------
+
+  ConfirmDivestiture* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ConfirmDivestiture& from);
+  void MergeFrom(const ConfirmDivestiture& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // optional bytes tag = 3;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 3;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ConfirmDivestiture)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::std::string* tag_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ConfirmDivestiture* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AttributeOwnershipAcquisition : public ::google::protobuf::Message {
+ public:
+  AttributeOwnershipAcquisition();
+  virtual ~AttributeOwnershipAcquisition();
+
+  AttributeOwnershipAcquisition(const AttributeOwnershipAcquisition& from);
+
+  inline AttributeOwnershipAcquisition& operator=(const AttributeOwnershipAcquisition& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AttributeOwnershipAcquisition& default_instance();
+
+  void Swap(AttributeOwnershipAcquisition* other);
+
+  // implements Message ----------------------------------------------
+
+  AttributeOwnershipAcquisition* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AttributeOwnershipAcquisition& from);
+  void MergeFrom(const AttributeOwnershipAcquisition& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // optional bytes tag = 3;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 3;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AttributeOwnershipAcquisition)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::std::string* tag_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AttributeOwnershipAcquisition* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AttributeOwnershipAcquisitionIfAvailable : public ::google::protobuf::Message {
+ public:
+  AttributeOwnershipAcquisitionIfAvailable();
+  virtual ~AttributeOwnershipAcquisitionIfAvailable();
+
+  AttributeOwnershipAcquisitionIfAvailable(const AttributeOwnershipAcquisitionIfAvailable& from);
+
+  inline AttributeOwnershipAcquisitionIfAvailable& operator=(const AttributeOwnershipAcquisitionIfAvailable& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AttributeOwnershipAcquisitionIfAvailable& default_instance();
+
+  void Swap(AttributeOwnershipAcquisitionIfAvailable* other);
+
+  // implements Message ----------------------------------------------
+
+  AttributeOwnershipAcquisitionIfAvailable* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AttributeOwnershipAcquisitionIfAvailable& from);
+  void MergeFrom(const AttributeOwnershipAcquisitionIfAvailable& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AttributeOwnershipAcquisitionIfAvailable)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AttributeOwnershipAcquisitionIfAvailable* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AttributeOwnershipDivestitureIfWanted : public ::google::protobuf::Message {
+ public:
+  AttributeOwnershipDivestitureIfWanted();
+  virtual ~AttributeOwnershipDivestitureIfWanted();
+
+  AttributeOwnershipDivestitureIfWanted(const AttributeOwnershipDivestitureIfWanted& from);
+
+  inline AttributeOwnershipDivestitureIfWanted& operator=(const AttributeOwnershipDivestitureIfWanted& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AttributeOwnershipDivestitureIfWanted& default_instance();
+
+  void Swap(AttributeOwnershipDivestitureIfWanted* other);
+
+  // implements Message ----------------------------------------------
+
+  AttributeOwnershipDivestitureIfWanted* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AttributeOwnershipDivestitureIfWanted& from);
+  void MergeFrom(const AttributeOwnershipDivestitureIfWanted& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 2;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 3;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 3;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // optional bytes tag = 4;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 4;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AttributeOwnershipDivestitureIfWanted)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::std::string* tag_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AttributeOwnershipDivestitureIfWanted* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class CancelNegotiatedAttributeOwnershipDivestiture : public ::google::protobuf::Message {
+ public:
+  CancelNegotiatedAttributeOwnershipDivestiture();
+  virtual ~CancelNegotiatedAttributeOwnershipDivestiture();
+
+  CancelNegotiatedAttributeOwnershipDivestiture(const CancelNegotiatedAttributeOwnershipDivestiture& from);
+
+  inline CancelNegotiatedAttributeOwnershipDivestiture& operator=(const CancelNegotiatedAttributeOwnershipDivestiture& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const CancelNegotiatedAttributeOwnershipDivestiture& default_instance();
+
+  void Swap(CancelNegotiatedAttributeOwnershipDivestiture* other);
+
+  // implements Message ----------------------------------------------
+
+  CancelNegotiatedAttributeOwnershipDivestiture* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const CancelNegotiatedAttributeOwnershipDivestiture& from);
+  void MergeFrom(const CancelNegotiatedAttributeOwnershipDivestiture& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.CancelNegotiatedAttributeOwnershipDivestiture)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static CancelNegotiatedAttributeOwnershipDivestiture* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class CancelAttributeOwnershipAcquisition : public ::google::protobuf::Message {
+ public:
+  CancelAttributeOwnershipAcquisition();
+  virtual ~CancelAttributeOwnershipAcquisition();
+
+  CancelAttributeOwnershipAcquisition(const CancelAttributeOwnershipAcquisition& from);
+
+  inline CancelAttributeOwnershipAcquisition& operator=(const CancelAttributeOwnershipAcquisition& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const CancelAttributeOwnershipAcquisition& default_instance();
+
+  void Swap(CancelAttributeOwnershipAcquisition* other);
+
+  // implements Message ----------------------------------------------
+
+  CancelAttributeOwnershipAcquisition* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const CancelAttributeOwnershipAcquisition& from);
+  void MergeFrom(const CancelAttributeOwnershipAcquisition& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.CancelAttributeOwnershipAcquisition)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static CancelAttributeOwnershipAcquisition* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class QueryAttributeOwnership : public ::google::protobuf::Message {
+ public:
+  QueryAttributeOwnership();
+  virtual ~QueryAttributeOwnership();
+
+  QueryAttributeOwnership(const QueryAttributeOwnership& from);
+
+  inline QueryAttributeOwnership& operator=(const QueryAttributeOwnership& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const QueryAttributeOwnership& default_instance();
+
+  void Swap(QueryAttributeOwnership* other);
+
+  // implements Message ----------------------------------------------
+
+  QueryAttributeOwnership* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const QueryAttributeOwnership& from);
+  void MergeFrom(const QueryAttributeOwnership& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // required uint32 attributeHandle = 2;
+  inline bool has_attributehandle() const;
+  inline void clear_attributehandle();
+  static const int kAttributeHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandle() const;
+  inline void set_attributehandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.QueryAttributeOwnership)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_attributehandle();
+  inline void clear_has_attributehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::uint32 attributehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static QueryAttributeOwnership* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class EnableTimeRegulation : public ::google::protobuf::Message {
+ public:
+  EnableTimeRegulation();
+  virtual ~EnableTimeRegulation();
+
+  EnableTimeRegulation(const EnableTimeRegulation& from);
+
+  inline EnableTimeRegulation& operator=(const EnableTimeRegulation& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const EnableTimeRegulation& default_instance();
+
+  void Swap(EnableTimeRegulation* other);
+
+  // implements Message ----------------------------------------------
+
+  EnableTimeRegulation* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const EnableTimeRegulation& from);
+  void MergeFrom(const EnableTimeRegulation& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required bytes lookahead = 1;
+  inline bool has_lookahead() const;
+  inline void clear_lookahead();
+  static const int kLookaheadFieldNumber = 1;
+  inline const ::std::string& lookahead() const;
+  inline void set_lookahead(const ::std::string& value);
+  inline void set_lookahead(const char* value);
+  inline void set_lookahead(const void* value, size_t size);
+  inline ::std::string* mutable_lookahead();
+  inline ::std::string* release_lookahead();
+  inline void set_allocated_lookahead(::std::string* lookahead);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.EnableTimeRegulation)
+ private:
+  inline void set_has_lookahead();
+  inline void clear_has_lookahead();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* lookahead_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static EnableTimeRegulation* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class DisableTimeRegulation : public ::google::protobuf::Message {
+ public:
+  DisableTimeRegulation();
+  virtual ~DisableTimeRegulation();
+
+  DisableTimeRegulation(const DisableTimeRegulation& from);
+
+  inline DisableTimeRegulation& operator=(const DisableTimeRegulation& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const DisableTimeRegulation& default_instance();
+
+  void Swap(DisableTimeRegulation* other);
+
+  // implements Message ----------------------------------------------
+
+  DisableTimeRegulation* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const DisableTimeRegulation& from);
+  void MergeFrom(const DisableTimeRegulation& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.DisableTimeRegulation)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static DisableTimeRegulation* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class EnableTimeConstrained : public ::google::protobuf::Message {
+ public:
+  EnableTimeConstrained();
+  virtual ~EnableTimeConstrained();
+
+  EnableTimeConstrained(const EnableTimeConstrained& from);
+
+  inline EnableTimeConstrained& operator=(const EnableTimeConstrained& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const EnableTimeConstrained& default_instance();
+
+  void Swap(EnableTimeConstrained* other);
+
+  // implements Message ----------------------------------------------
+
+  EnableTimeConstrained* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const EnableTimeConstrained& from);
+  void MergeFrom(const EnableTimeConstrained& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.EnableTimeConstrained)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static EnableTimeConstrained* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class DisableTimeConstrained : public ::google::protobuf::Message {
+ public:
+  DisableTimeConstrained();
+  virtual ~DisableTimeConstrained();
+
+  DisableTimeConstrained(const DisableTimeConstrained& from);
+
+  inline DisableTimeConstrained& operator=(const DisableTimeConstrained& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const DisableTimeConstrained& default_instance();
+
+  void Swap(DisableTimeConstrained* other);
+
+  // implements Message ----------------------------------------------
+
+  DisableTimeConstrained* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const DisableTimeConstrained& from);
+  void MergeFrom(const DisableTimeConstrained& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.DisableTimeConstrained)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static DisableTimeConstrained* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class TimeAdvanceRequest : public ::google::protobuf::Message {
+ public:
+  TimeAdvanceRequest();
+  virtual ~TimeAdvanceRequest();
+
+  TimeAdvanceRequest(const TimeAdvanceRequest& from);
+
+  inline TimeAdvanceRequest& operator=(const TimeAdvanceRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const TimeAdvanceRequest& default_instance();
+
+  void Swap(TimeAdvanceRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  TimeAdvanceRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const TimeAdvanceRequest& from);
+  void MergeFrom(const TimeAdvanceRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required bytes time = 1;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 1;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.TimeAdvanceRequest)
+ private:
+  inline void set_has_time();
+  inline void clear_has_time();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* time_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static TimeAdvanceRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class TimeAdvanceRequestAvailable : public ::google::protobuf::Message {
+ public:
+  TimeAdvanceRequestAvailable();
+  virtual ~TimeAdvanceRequestAvailable();
+
+  TimeAdvanceRequestAvailable(const TimeAdvanceRequestAvailable& from);
+
+  inline TimeAdvanceRequestAvailable& operator=(const TimeAdvanceRequestAvailable& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const TimeAdvanceRequestAvailable& default_instance();
+
+  void Swap(TimeAdvanceRequestAvailable* other);
+
+  // implements Message ----------------------------------------------
+
+  TimeAdvanceRequestAvailable* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const TimeAdvanceRequestAvailable& from);
+  void MergeFrom(const TimeAdvanceRequestAvailable& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required bytes time = 1;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 1;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.TimeAdvanceRequestAvailable)
+ private:
+  inline void set_has_time();
+  inline void clear_has_time();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* time_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static TimeAdvanceRequestAvailable* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class NextMessageRequest : public ::google::protobuf::Message {
+ public:
+  NextMessageRequest();
+  virtual ~NextMessageRequest();
+
+  NextMessageRequest(const NextMessageRequest& from);
+
+  inline NextMessageRequest& operator=(const NextMessageRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const NextMessageRequest& default_instance();
+
+  void Swap(NextMessageRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  NextMessageRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const NextMessageRequest& from);
+  void MergeFrom(const NextMessageRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required bytes time = 1;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 1;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.NextMessageRequest)
+ private:
+  inline void set_has_time();
+  inline void clear_has_time();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* time_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static NextMessageRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class NextMessageRequestAvailable : public ::google::protobuf::Message {
+ public:
+  NextMessageRequestAvailable();
+  virtual ~NextMessageRequestAvailable();
+
+  NextMessageRequestAvailable(const NextMessageRequestAvailable& from);
+
+  inline NextMessageRequestAvailable& operator=(const NextMessageRequestAvailable& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const NextMessageRequestAvailable& default_instance();
+
+  void Swap(NextMessageRequestAvailable* other);
+
+  // implements Message ----------------------------------------------
+
+  NextMessageRequestAvailable* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const NextMessageRequestAvailable& from);
+  void MergeFrom(const NextMessageRequestAvailable& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required bytes time = 1;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 1;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.NextMessageRequestAvailable)
+ private:
+  inline void set_has_time();
+  inline void clear_has_time();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* time_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static NextMessageRequestAvailable* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FlushQueueRequest : public ::google::protobuf::Message {
+ public:
+  FlushQueueRequest();
+  virtual ~FlushQueueRequest();
+
+  FlushQueueRequest(const FlushQueueRequest& from);
+
+  inline FlushQueueRequest& operator=(const FlushQueueRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FlushQueueRequest& default_instance();
+
+  void Swap(FlushQueueRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  FlushQueueRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FlushQueueRequest& from);
+  void MergeFrom(const FlushQueueRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required bytes time = 1;
+  inline bool has_time() const;
+  inline void clear_time();
+  static const int kTimeFieldNumber = 1;
+  inline const ::std::string& time() const;
+  inline void set_time(const ::std::string& value);
+  inline void set_time(const char* value);
+  inline void set_time(const void* value, size_t size);
+  inline ::std::string* mutable_time();
+  inline ::std::string* release_time();
+  inline void set_allocated_time(::std::string* time);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FlushQueueRequest)
+ private:
+  inline void set_has_time();
+  inline void clear_has_time();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* time_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FlushQueueRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class QueryGALT : public ::google::protobuf::Message {
+ public:
+  QueryGALT();
+  virtual ~QueryGALT();
+
+  QueryGALT(const QueryGALT& from);
+
+  inline QueryGALT& operator=(const QueryGALT& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const QueryGALT& default_instance();
+
+  void Swap(QueryGALT* other);
+
+  // implements Message ----------------------------------------------
+
+  QueryGALT* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const QueryGALT& from);
+  void MergeFrom(const QueryGALT& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.QueryGALT)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static QueryGALT* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class QueryLITS : public ::google::protobuf::Message {
+ public:
+  QueryLITS();
+  virtual ~QueryLITS();
+
+  QueryLITS(const QueryLITS& from);
+
+  inline QueryLITS& operator=(const QueryLITS& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const QueryLITS& default_instance();
+
+  void Swap(QueryLITS* other);
+
+  // implements Message ----------------------------------------------
+
+  QueryLITS* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const QueryLITS& from);
+  void MergeFrom(const QueryLITS& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.QueryLITS)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static QueryLITS* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ModifyLookahead : public ::google::protobuf::Message {
+ public:
+  ModifyLookahead();
+  virtual ~ModifyLookahead();
+
+  ModifyLookahead(const ModifyLookahead& from);
+
+  inline ModifyLookahead& operator=(const ModifyLookahead& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ModifyLookahead& default_instance();
+
+  void Swap(ModifyLookahead* other);
+
+  // implements Message ----------------------------------------------
+
+  ModifyLookahead* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ModifyLookahead& from);
+  void MergeFrom(const ModifyLookahead& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required bytes lookahead = 1;
+  inline bool has_lookahead() const;
+  inline void clear_lookahead();
+  static const int kLookaheadFieldNumber = 1;
+  inline const ::std::string& lookahead() const;
+  inline void set_lookahead(const ::std::string& value);
+  inline void set_lookahead(const char* value);
+  inline void set_lookahead(const void* value, size_t size);
+  inline ::std::string* mutable_lookahead();
+  inline ::std::string* release_lookahead();
+  inline void set_allocated_lookahead(::std::string* lookahead);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ModifyLookahead)
+ private:
+  inline void set_has_lookahead();
+  inline void clear_has_lookahead();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* lookahead_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ModifyLookahead* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class Retract : public ::google::protobuf::Message {
+ public:
+  Retract();
+  virtual ~Retract();
+
+  Retract(const Retract& from);
+
+  inline Retract& operator=(const Retract& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const Retract& default_instance();
+
+  void Swap(Retract* other);
+
+  // implements Message ----------------------------------------------
+
+  Retract* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const Retract& from);
+  void MergeFrom(const Retract& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 2;
+  inline bool has_messageretractionhandle() const;
+  inline void clear_messageretractionhandle();
+  static const int kMessageRetractionHandleFieldNumber = 2;
+  inline const ::ohla::rti::proto::MessageRetractionHandle& messageretractionhandle() const;
+  inline ::ohla::rti::proto::MessageRetractionHandle* mutable_messageretractionhandle();
+  inline ::ohla::rti::proto::MessageRetractionHandle* release_messageretractionhandle();
+  inline void set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.Retract)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_messageretractionhandle();
+  inline void clear_has_messageretractionhandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static Retract* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class CreateRegion : public ::google::protobuf::Message {
+ public:
+  CreateRegion();
+  virtual ~CreateRegion();
+
+  CreateRegion(const CreateRegion& from);
+
+  inline CreateRegion& operator=(const CreateRegion& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const CreateRegion& default_instance();
+
+  void Swap(CreateRegion* other);
+
+  // implements Message ----------------------------------------------
+
+  CreateRegion* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const CreateRegion& from);
+  void MergeFrom(const CreateRegion& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  inline bool has_regionhandle() const;
+  inline void clear_regionhandle();
+  static const int kRegionHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::RegionHandle& regionhandle() const;
+  inline ::ohla::rti::proto::RegionHandle* mutable_regionhandle();
+  inline ::ohla::rti::proto::RegionHandle* release_regionhandle();
+  inline void set_allocated_regionhandle(::ohla::rti::proto::RegionHandle* regionhandle);
+
+  // repeated uint32 dimensionHandles = 2;
+  inline int dimensionhandles_size() const;
+  inline void clear_dimensionhandles();
+  static const int kDimensionHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 dimensionhandles(int index) const;
+  inline void set_dimensionhandles(int index, ::google::protobuf::uint32 value);
+  inline void add_dimensionhandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      dimensionhandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_dimensionhandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.CreateRegion)
+ private:
+  inline void set_has_regionhandle();
+  inline void clear_has_regionhandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::RegionHandle* regionhandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > dimensionhandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static CreateRegion* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class CommitRegionModifications_RegionModification : public ::google::protobuf::Message {
+ public:
+  CommitRegionModifications_RegionModification();
+  virtual ~CommitRegionModifications_RegionModification();
+
+  CommitRegionModifications_RegionModification(const CommitRegionModifications_RegionModification& from);
+
+  inline CommitRegionModifications_RegionModification& operator=(const CommitRegionModifications_RegionModification& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const CommitRegionModifications_RegionModification& default_instance();
+
+  void Swap(CommitRegionModifications_RegionModification* other);
+
+  // implements Message ----------------------------------------------
+
+  CommitRegionModifications_RegionModification* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const CommitRegionModifications_RegionModification& from);
+  void MergeFrom(const CommitRegionModifications_RegionModification& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  inline bool has_regionhandle() const;
+  inline void clear_regionhandle();
+  static const int kRegionHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::RegionHandle& regionhandle() const;
+  inline ::ohla::rti::proto::RegionHandle* mutable_regionhandle();
+  inline ::ohla::rti::proto::RegionHandle* release_regionhandle();
+  inline void set_allocated_regionhandle(::ohla::rti::proto::RegionHandle* regionhandle);
+
+  // repeated .ohla.rti.proto.DimensionRangeBound dimensionRangeBounds = 2;
+  inline int dimensionrangebounds_size() const;
+  inline void clear_dimensionrangebounds();
+  static const int kDimensionRangeBoundsFieldNumber = 2;
+  inline const ::ohla::rti::proto::DimensionRangeBound& dimensionrangebounds(int index) const;
+  inline ::ohla::rti::proto::DimensionRangeBound* mutable_dimensionrangebounds(int index);
+  inline ::ohla::rti::proto::DimensionRangeBound* add_dimensionrangebounds();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >&
+      dimensionrangebounds() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >*
+      mutable_dimensionrangebounds();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.CommitRegionModifications.RegionModification)
+ private:
+  inline void set_has_regionhandle();
+  inline void clear_has_regionhandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::RegionHandle* regionhandle_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound > dimensionrangebounds_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static CommitRegionModifications_RegionModification* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class CommitRegionModifications : public ::google::protobuf::Message {
+ public:
+  CommitRegionModifications();
+  virtual ~CommitRegionModifications();
+
+  CommitRegionModifications(const CommitRegionModifications& from);
+
+  inline CommitRegionModifications& operator=(const CommitRegionModifications& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const CommitRegionModifications& default_instance();
+
+  void Swap(CommitRegionModifications* other);
+
+  // implements Message ----------------------------------------------
+
+  CommitRegionModifications* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const CommitRegionModifications& from);
+  void MergeFrom(const CommitRegionModifications& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef CommitRegionModifications_RegionModification RegionModification;
+
+  // accessors -------------------------------------------------------
+
+  // repeated .ohla.rti.messages.proto.CommitRegionModifications.RegionModification regionModifications = 1;
+  inline int regionmodifications_size() const;
+  inline void clear_regionmodifications();
+  static const int kRegionModificationsFieldNumber = 1;
+  inline const ::ohla::rti::messages::proto::CommitRegionModifications_RegionModification& regionmodifications(int index) const;
+  inline ::ohla::rti::messages::proto::CommitRegionModifications_RegionModification* mutable_regionmodifications(int index);
+  inline ::ohla::rti::messages::proto::CommitRegionModifications_RegionModification* add_regionmodifications();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::CommitRegionModifications_RegionModification >&
+      regionmodifications() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::CommitRegionModifications_RegionModification >*
+      mutable_regionmodifications();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.CommitRegionModifications)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::CommitRegionModifications_RegionModification > regionmodifications_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static CommitRegionModifications* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class DeleteRegion : public ::google::protobuf::Message {
+ public:
+  DeleteRegion();
+  virtual ~DeleteRegion();
+
+  DeleteRegion(const DeleteRegion& from);
+
+  inline DeleteRegion& operator=(const DeleteRegion& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const DeleteRegion& default_instance();
+
+  void Swap(DeleteRegion* other);
+
+  // implements Message ----------------------------------------------
+
+  DeleteRegion* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const DeleteRegion& from);
+  void MergeFrom(const DeleteRegion& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  inline bool has_regionhandle() const;
+  inline void clear_regionhandle();
+  static const int kRegionHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::RegionHandle& regionhandle() const;
+  inline ::ohla::rti::proto::RegionHandle* mutable_regionhandle();
+  inline ::ohla::rti::proto::RegionHandle* release_regionhandle();
+  inline void set_allocated_regionhandle(::ohla::rti::proto::RegionHandle* regionhandle);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.DeleteRegion)
+ private:
+  inline void set_has_regionhandle();
+  inline void clear_has_regionhandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::RegionHandle* regionhandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static DeleteRegion* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AssociateRegionsForUpdates : public ::google::protobuf::Message {
+ public:
+  AssociateRegionsForUpdates();
+  virtual ~AssociateRegionsForUpdates();
+
+  AssociateRegionsForUpdates(const AssociateRegionsForUpdates& from);
+
+  inline AssociateRegionsForUpdates& operator=(const AssociateRegionsForUpdates& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AssociateRegionsForUpdates& default_instance();
+
+  void Swap(AssociateRegionsForUpdates* other);
+
+  // implements Message ----------------------------------------------
+
+  AssociateRegionsForUpdates* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AssociateRegionsForUpdates& from);
+  void MergeFrom(const AssociateRegionsForUpdates& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 2;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 3;
+  inline int attributeregionassociations_size() const;
+  inline void clear_attributeregionassociations();
+  static const int kAttributeRegionAssociationsFieldNumber = 3;
+  inline const ::ohla::rti::messages::proto::AttributeRegionAssociation& attributeregionassociations(int index) const;
+  inline ::ohla::rti::messages::proto::AttributeRegionAssociation* mutable_attributeregionassociations(int index);
+  inline ::ohla::rti::messages::proto::AttributeRegionAssociation* add_attributeregionassociations();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >&
+      attributeregionassociations() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >*
+      mutable_attributeregionassociations();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AssociateRegionsForUpdates)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation > attributeregionassociations_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AssociateRegionsForUpdates* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class UnassociateRegionsForUpdates : public ::google::protobuf::Message {
+ public:
+  UnassociateRegionsForUpdates();
+  virtual ~UnassociateRegionsForUpdates();
+
+  UnassociateRegionsForUpdates(const UnassociateRegionsForUpdates& from);
+
+  inline UnassociateRegionsForUpdates& operator=(const UnassociateRegionsForUpdates& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const UnassociateRegionsForUpdates& default_instance();
+
+  void Swap(UnassociateRegionsForUpdates* other);
+
+  // implements Message ----------------------------------------------
+
+  UnassociateRegionsForUpdates* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const UnassociateRegionsForUpdates& from);
+  void MergeFrom(const UnassociateRegionsForUpdates& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 2;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 3;
+  inline int attributeregionassociations_size() const;
+  inline void clear_attributeregionassociations();
+  static const int kAttributeRegionAssociationsFieldNumber = 3;
+  inline const ::ohla::rti::messages::proto::AttributeRegionAssociation& attributeregionassociations(int index) const;
+  inline ::ohla::rti::messages::proto::AttributeRegionAssociation* mutable_attributeregionassociations(int index);
+  inline ::ohla::rti::messages::proto::AttributeRegionAssociation* add_attributeregionassociations();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >&
+      attributeregionassociations() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >*
+      mutable_attributeregionassociations();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.UnassociateRegionsForUpdates)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation > attributeregionassociations_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static UnassociateRegionsForUpdates* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class SubscribeObjectClassAttributesWithRegions : public ::google::protobuf::Message {
+ public:
+  SubscribeObjectClassAttributesWithRegions();
+  virtual ~SubscribeObjectClassAttributesWithRegions();
+
+  SubscribeObjectClassAttributesWithRegions(const SubscribeObjectClassAttributesWithRegions& from);
+
+  inline SubscribeObjectClassAttributesWithRegions& operator=(const SubscribeObjectClassAttributesWithRegions& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const SubscribeObjectClassAttributesWithRegions& default_instance();
+
+  void Swap(SubscribeObjectClassAttributesWithRegions* other);
+
+  // implements Message ----------------------------------------------
+
+  SubscribeObjectClassAttributesWithRegions* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const SubscribeObjectClassAttributesWithRegions& from);
+  void MergeFrom(const SubscribeObjectClassAttributesWithRegions& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+  inline int attributeregionassociations_size() const;
+  inline void clear_attributeregionassociations();
+  static const int kAttributeRegionAssociationsFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::AttributeRegionAssociation& attributeregionassociations(int index) const;
+  inline ::ohla::rti::messages::proto::AttributeRegionAssociation* mutable_attributeregionassociations(int index);
+  inline ::ohla::rti::messages::proto::AttributeRegionAssociation* add_attributeregionassociations();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >&
+      attributeregionassociations() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >*
+      mutable_attributeregionassociations();
+
+  // required bool passive = 3;
+  inline bool has_passive() const;
+  inline void clear_passive();
+  static const int kPassiveFieldNumber = 3;
+  inline bool passive() const;
+  inline void set_passive(bool value);
+
+  // optional string updateRateDesignator = 4;
+  inline bool has_updateratedesignator() const;
+  inline void clear_updateratedesignator();
+  static const int kUpdateRateDesignatorFieldNumber = 4;
+  inline const ::std::string& updateratedesignator() const;
+  inline void set_updateratedesignator(const ::std::string& value);
+  inline void set_updateratedesignator(const char* value);
+  inline void set_updateratedesignator(const char* value, size_t size);
+  inline ::std::string* mutable_updateratedesignator();
+  inline ::std::string* release_updateratedesignator();
+  inline void set_allocated_updateratedesignator(::std::string* updateratedesignator);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.SubscribeObjectClassAttributesWithRegions)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+  inline void set_has_passive();
+  inline void clear_has_passive();
+  inline void set_has_updateratedesignator();
+  inline void clear_has_updateratedesignator();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation > attributeregionassociations_;
+  ::google::protobuf::uint32 objectclasshandle_;
+  bool passive_;
+  ::std::string* updateratedesignator_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static SubscribeObjectClassAttributesWithRegions* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class UnsubscribeObjectClassAttributesWithRegions : public ::google::protobuf::Message {
+ public:
+  UnsubscribeObjectClassAttributesWithRegions();
+  virtual ~UnsubscribeObjectClassAttributesWithRegions();
+
+  UnsubscribeObjectClassAttributesWithRegions(const UnsubscribeObjectClassAttributesWithRegions& from);
+
+  inline UnsubscribeObjectClassAttributesWithRegions& operator=(const UnsubscribeObjectClassAttributesWithRegions& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const UnsubscribeObjectClassAttributesWithRegions& default_instance();
+
+  void Swap(UnsubscribeObjectClassAttributesWithRegions* other);
+
+  // implements Message ----------------------------------------------
+
+  UnsubscribeObjectClassAttributesWithRegions* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const UnsubscribeObjectClassAttributesWithRegions& from);
+  void MergeFrom(const UnsubscribeObjectClassAttributesWithRegions& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+  inline int attributeregionassociations_size() const;
+  inline void clear_attributeregionassociations();
+  static const int kAttributeRegionAssociationsFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::AttributeRegionAssociation& attributeregionassociations(int index) const;
+  inline ::ohla::rti::messages::proto::AttributeRegionAssociation* mutable_attributeregionassociations(int index);
+  inline ::ohla::rti::messages::proto::AttributeRegionAssociation* add_attributeregionassociations();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >&
+      attributeregionassociations() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >*
+      mutable_attributeregionassociations();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.UnsubscribeObjectClassAttributesWithRegions)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation > attributeregionassociations_;
+  ::google::protobuf::uint32 objectclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static UnsubscribeObjectClassAttributesWithRegions* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class SubscribeInteractionClassWithRegions : public ::google::protobuf::Message {
+ public:
+  SubscribeInteractionClassWithRegions();
+  virtual ~SubscribeInteractionClassWithRegions();
+
+  SubscribeInteractionClassWithRegions(const SubscribeInteractionClassWithRegions& from);
+
+  inline SubscribeInteractionClassWithRegions& operator=(const SubscribeInteractionClassWithRegions& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const SubscribeInteractionClassWithRegions& default_instance();
+
+  void Swap(SubscribeInteractionClassWithRegions* other);
+
+  // implements Message ----------------------------------------------
+
+  SubscribeInteractionClassWithRegions* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const SubscribeInteractionClassWithRegions& from);
+  void MergeFrom(const SubscribeInteractionClassWithRegions& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 interactionClassHandle = 1;
+  inline bool has_interactionclasshandle() const;
+  inline void clear_interactionclasshandle();
+  static const int kInteractionClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 interactionclasshandle() const;
+  inline void set_interactionclasshandle(::google::protobuf::uint32 value);
+
+  // required bool passive = 2;
+  inline bool has_passive() const;
+  inline void clear_passive();
+  static const int kPassiveFieldNumber = 2;
+  inline bool passive() const;
+  inline void set_passive(bool value);
+
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 3;
+  inline int regionhandles_size() const;
+  inline void clear_regionhandles();
+  static const int kRegionHandlesFieldNumber = 3;
+  inline const ::ohla::rti::proto::RegionHandle& regionhandles(int index) const;
+  inline ::ohla::rti::proto::RegionHandle* mutable_regionhandles(int index);
+  inline ::ohla::rti::proto::RegionHandle* add_regionhandles();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >&
+      regionhandles() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >*
+      mutable_regionhandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.SubscribeInteractionClassWithRegions)
+ private:
+  inline void set_has_interactionclasshandle();
+  inline void clear_has_interactionclasshandle();
+  inline void set_has_passive();
+  inline void clear_has_passive();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 interactionclasshandle_;
+  bool passive_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle > regionhandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static SubscribeInteractionClassWithRegions* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class UnsubscribeInteractionClassWithRegions : public ::google::protobuf::Message {
+ public:
+  UnsubscribeInteractionClassWithRegions();
+  virtual ~UnsubscribeInteractionClassWithRegions();
+
+  UnsubscribeInteractionClassWithRegions(const UnsubscribeInteractionClassWithRegions& from);
+
+  inline UnsubscribeInteractionClassWithRegions& operator=(const UnsubscribeInteractionClassWithRegions& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const UnsubscribeInteractionClassWithRegions& default_instance();
+
+  void Swap(UnsubscribeInteractionClassWithRegions* other);
+
+  // implements Message ----------------------------------------------
+
+  UnsubscribeInteractionClassWithRegions* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const UnsubscribeInteractionClassWithRegions& from);
+  void MergeFrom(const UnsubscribeInteractionClassWithRegions& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 interactionClassHandle = 1;
+  inline bool has_interactionclasshandle() const;
+  inline void clear_interactionclasshandle();
+  static const int kInteractionClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 interactionclasshandle() const;
+  inline void set_interactionclasshandle(::google::protobuf::uint32 value);
+
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+  inline int regionhandles_size() const;
+  inline void clear_regionhandles();
+  static const int kRegionHandlesFieldNumber = 2;
+  inline const ::ohla::rti::proto::RegionHandle& regionhandles(int index) const;
+  inline ::ohla::rti::proto::RegionHandle* mutable_regionhandles(int index);
+  inline ::ohla::rti::proto::RegionHandle* add_regionhandles();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >&
+      regionhandles() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >*
+      mutable_regionhandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.UnsubscribeInteractionClassWithRegions)
+ private:
+  inline void set_has_interactionclasshandle();
+  inline void clear_has_interactionclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle > regionhandles_;
+  ::google::protobuf::uint32 interactionclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static UnsubscribeInteractionClassWithRegions* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class QueryFederationSaveStatus : public ::google::protobuf::Message {
+ public:
+  QueryFederationSaveStatus();
+  virtual ~QueryFederationSaveStatus();
+
+  QueryFederationSaveStatus(const QueryFederationSaveStatus& from);
+
+  inline QueryFederationSaveStatus& operator=(const QueryFederationSaveStatus& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const QueryFederationSaveStatus& default_instance();
+
+  void Swap(QueryFederationSaveStatus* other);
+
+  // implements Message ----------------------------------------------
+
+  QueryFederationSaveStatus* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const QueryFederationSaveStatus& from);
+  void MergeFrom(const QueryFederationSaveStatus& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.QueryFederationSaveStatus)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static QueryFederationSaveStatus* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class QueryFederationRestoreStatus : public ::google::protobuf::Message {
+ public:
+  QueryFederationRestoreStatus();
+  virtual ~QueryFederationRestoreStatus();
+
+  QueryFederationRestoreStatus(const QueryFederationRestoreStatus& from);
+
+  inline QueryFederationRestoreStatus& operator=(const QueryFederationRestoreStatus& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const QueryFederationRestoreStatus& default_instance();
+
+  void Swap(QueryFederationRestoreStatus* other);
+
+  // implements Message ----------------------------------------------
+
+  QueryFederationRestoreStatus* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const QueryFederationRestoreStatus& from);
+  void MergeFrom(const QueryFederationRestoreStatus& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.QueryFederationRestoreStatus)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static QueryFederationRestoreStatus* default_instance_;
+};
+// ===================================================================
+
+
+// ===================================================================
+
+// ResignFederationExecution
+
+// required .ohla.rti.proto.ResignAction resignAction = 1;
+inline bool ResignFederationExecution::has_resignaction() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ResignFederationExecution::set_has_resignaction() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ResignFederationExecution::clear_has_resignaction() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ResignFederationExecution::clear_resignaction() {
+  resignaction_ = 1;
+  clear_has_resignaction();
+}
+inline ::ohla::rti::proto::ResignAction ResignFederationExecution::resignaction() const {
+  return static_cast< ::ohla::rti::proto::ResignAction >(resignaction_);
+}
+inline void ResignFederationExecution::set_resignaction(::ohla::rti::proto::ResignAction value) {
+  assert(::ohla::rti::proto::ResignAction_IsValid(value));
+  set_has_resignaction();
+  resignaction_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// RegisterFederationSynchronizationPoint
+
+// required string label = 1;
+inline bool RegisterFederationSynchronizationPoint::has_label() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RegisterFederationSynchronizationPoint::set_has_label() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RegisterFederationSynchronizationPoint::clear_has_label() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RegisterFederationSynchronizationPoint::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& RegisterFederationSynchronizationPoint::label() const {
+  return *label_;
+}
+inline void RegisterFederationSynchronizationPoint::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void RegisterFederationSynchronizationPoint::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void RegisterFederationSynchronizationPoint::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RegisterFederationSynchronizationPoint::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* RegisterFederationSynchronizationPoint::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RegisterFederationSynchronizationPoint::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional bytes tag = 2;
+inline bool RegisterFederationSynchronizationPoint::has_tag() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void RegisterFederationSynchronizationPoint::set_has_tag() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void RegisterFederationSynchronizationPoint::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void RegisterFederationSynchronizationPoint::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& RegisterFederationSynchronizationPoint::tag() const {
+  return *tag_;
+}
+inline void RegisterFederationSynchronizationPoint::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void RegisterFederationSynchronizationPoint::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void RegisterFederationSynchronizationPoint::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RegisterFederationSynchronizationPoint::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* RegisterFederationSynchronizationPoint::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RegisterFederationSynchronizationPoint::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// repeated uint32 federateHandles = 3;
+inline int RegisterFederationSynchronizationPoint::federatehandles_size() const {
+  return federatehandles_.size();
+}
+inline void RegisterFederationSynchronizationPoint::clear_federatehandles() {
+  federatehandles_.Clear();
+}
+inline ::google::protobuf::uint32 RegisterFederationSynchronizationPoint::federatehandles(int index) const {
+  return federatehandles_.Get(index);
+}
+inline void RegisterFederationSynchronizationPoint::set_federatehandles(int index, ::google::protobuf::uint32 value) {
+  federatehandles_.Set(index, value);
+}
+inline void RegisterFederationSynchronizationPoint::add_federatehandles(::google::protobuf::uint32 value) {
+  federatehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+RegisterFederationSynchronizationPoint::federatehandles() const {
+  return federatehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+RegisterFederationSynchronizationPoint::mutable_federatehandles() {
+  return &federatehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// SynchronizationPointAchieved
+
+// required string label = 1;
+inline bool SynchronizationPointAchieved::has_label() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void SynchronizationPointAchieved::set_has_label() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void SynchronizationPointAchieved::clear_has_label() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void SynchronizationPointAchieved::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& SynchronizationPointAchieved::label() const {
+  return *label_;
+}
+inline void SynchronizationPointAchieved::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void SynchronizationPointAchieved::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void SynchronizationPointAchieved::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* SynchronizationPointAchieved::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* SynchronizationPointAchieved::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void SynchronizationPointAchieved::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required bool successful = 2;
+inline bool SynchronizationPointAchieved::has_successful() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void SynchronizationPointAchieved::set_has_successful() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void SynchronizationPointAchieved::clear_has_successful() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void SynchronizationPointAchieved::clear_successful() {
+  successful_ = false;
+  clear_has_successful();
+}
+inline bool SynchronizationPointAchieved::successful() const {
+  return successful_;
+}
+inline void SynchronizationPointAchieved::set_successful(bool value) {
+  set_has_successful();
+  successful_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// RequestFederationSave
+
+// required uint64 requestId = 1;
+inline bool RequestFederationSave::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestFederationSave::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestFederationSave::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestFederationSave::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 RequestFederationSave::requestid() const {
+  return requestid_;
+}
+inline void RequestFederationSave::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// required string label = 2;
+inline bool RequestFederationSave::has_label() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void RequestFederationSave::set_has_label() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void RequestFederationSave::clear_has_label() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void RequestFederationSave::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& RequestFederationSave::label() const {
+  return *label_;
+}
+inline void RequestFederationSave::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void RequestFederationSave::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void RequestFederationSave::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RequestFederationSave::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* RequestFederationSave::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RequestFederationSave::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional bytes time = 3;
+inline bool RequestFederationSave::has_time() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void RequestFederationSave::set_has_time() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void RequestFederationSave::clear_has_time() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void RequestFederationSave::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& RequestFederationSave::time() const {
+  return *time_;
+}
+inline void RequestFederationSave::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void RequestFederationSave::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void RequestFederationSave::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RequestFederationSave::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* RequestFederationSave::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RequestFederationSave::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// AbortFederationSave
+
+// required uint64 requestId = 1;
+inline bool AbortFederationSave::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AbortFederationSave::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AbortFederationSave::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AbortFederationSave::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 AbortFederationSave::requestid() const {
+  return requestid_;
+}
+inline void AbortFederationSave::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederateSaveBegun
+
+// -------------------------------------------------------------------
+
+// FederateSaveComplete
+
+// -------------------------------------------------------------------
+
+// FederateSaveNotComplete
+
+// -------------------------------------------------------------------
+
+// RequestFederationRestore
+
+// required uint64 requestId = 1;
+inline bool RequestFederationRestore::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestFederationRestore::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestFederationRestore::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestFederationRestore::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 RequestFederationRestore::requestid() const {
+  return requestid_;
+}
+inline void RequestFederationRestore::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// required string label = 2;
+inline bool RequestFederationRestore::has_label() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void RequestFederationRestore::set_has_label() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void RequestFederationRestore::clear_has_label() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void RequestFederationRestore::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& RequestFederationRestore::label() const {
+  return *label_;
+}
+inline void RequestFederationRestore::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void RequestFederationRestore::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void RequestFederationRestore::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RequestFederationRestore::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* RequestFederationRestore::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RequestFederationRestore::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// AbortFederationRestore
+
+// required uint64 requestId = 1;
+inline bool AbortFederationRestore::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AbortFederationRestore::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AbortFederationRestore::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AbortFederationRestore::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 AbortFederationRestore::requestid() const {
+  return requestid_;
+}
+inline void AbortFederationRestore::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederateRestoreComplete
+
+// -------------------------------------------------------------------
+
+// FederateRestoreNotComplete
+
+// -------------------------------------------------------------------
+
+// PublishObjectClassAttributes
+
+// required uint32 objectClassHandle = 1;
+inline bool PublishObjectClassAttributes::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void PublishObjectClassAttributes::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void PublishObjectClassAttributes::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void PublishObjectClassAttributes::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 PublishObjectClassAttributes::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void PublishObjectClassAttributes::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int PublishObjectClassAttributes::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void PublishObjectClassAttributes::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 PublishObjectClassAttributes::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void PublishObjectClassAttributes::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void PublishObjectClassAttributes::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+PublishObjectClassAttributes::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+PublishObjectClassAttributes::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// UnpublishObjectClass
+
+// required uint32 objectClassHandle = 1;
+inline bool UnpublishObjectClass::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void UnpublishObjectClass::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void UnpublishObjectClass::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void UnpublishObjectClass::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 UnpublishObjectClass::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void UnpublishObjectClass::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// repeated .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandles = 2;
+inline int UnpublishObjectClass::objectinstancehandles_size() const {
+  return objectinstancehandles_.size();
+}
+inline void UnpublishObjectClass::clear_objectinstancehandles() {
+  objectinstancehandles_.Clear();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& UnpublishObjectClass::objectinstancehandles(int index) const {
+  return objectinstancehandles_.Get(index);
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* UnpublishObjectClass::mutable_objectinstancehandles(int index) {
+  return objectinstancehandles_.Mutable(index);
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* UnpublishObjectClass::add_objectinstancehandles() {
+  return objectinstancehandles_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectInstanceHandle >&
+UnpublishObjectClass::objectinstancehandles() const {
+  return objectinstancehandles_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectInstanceHandle >*
+UnpublishObjectClass::mutable_objectinstancehandles() {
+  return &objectinstancehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// UnpublishObjectClassAttributes
+
+// required uint32 objectClassHandle = 1;
+inline bool UnpublishObjectClassAttributes::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void UnpublishObjectClassAttributes::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void UnpublishObjectClassAttributes::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void UnpublishObjectClassAttributes::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 UnpublishObjectClassAttributes::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void UnpublishObjectClassAttributes::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int UnpublishObjectClassAttributes::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void UnpublishObjectClassAttributes::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 UnpublishObjectClassAttributes::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void UnpublishObjectClassAttributes::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void UnpublishObjectClassAttributes::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+UnpublishObjectClassAttributes::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+UnpublishObjectClassAttributes::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// repeated .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandles = 3;
+inline int UnpublishObjectClassAttributes::objectinstancehandles_size() const {
+  return objectinstancehandles_.size();
+}
+inline void UnpublishObjectClassAttributes::clear_objectinstancehandles() {
+  objectinstancehandles_.Clear();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& UnpublishObjectClassAttributes::objectinstancehandles(int index) const {
+  return objectinstancehandles_.Get(index);
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* UnpublishObjectClassAttributes::mutable_objectinstancehandles(int index) {
+  return objectinstancehandles_.Mutable(index);
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* UnpublishObjectClassAttributes::add_objectinstancehandles() {
+  return objectinstancehandles_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectInstanceHandle >&
+UnpublishObjectClassAttributes::objectinstancehandles() const {
+  return objectinstancehandles_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectInstanceHandle >*
+UnpublishObjectClassAttributes::mutable_objectinstancehandles() {
+  return &objectinstancehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// PublishInteractionClass
+
+// required uint32 interactionClassHandle = 1;
+inline bool PublishInteractionClass::has_interactionclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void PublishInteractionClass::set_has_interactionclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void PublishInteractionClass::clear_has_interactionclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void PublishInteractionClass::clear_interactionclasshandle() {
+  interactionclasshandle_ = 0u;
+  clear_has_interactionclasshandle();
+}
+inline ::google::protobuf::uint32 PublishInteractionClass::interactionclasshandle() const {
+  return interactionclasshandle_;
+}
+inline void PublishInteractionClass::set_interactionclasshandle(::google::protobuf::uint32 value) {
+  set_has_interactionclasshandle();
+  interactionclasshandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// UnpublishInteractionClass
+
+// required uint32 interactionClassHandle = 1;
+inline bool UnpublishInteractionClass::has_interactionclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void UnpublishInteractionClass::set_has_interactionclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void UnpublishInteractionClass::clear_has_interactionclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void UnpublishInteractionClass::clear_interactionclasshandle() {
+  interactionclasshandle_ = 0u;
+  clear_has_interactionclasshandle();
+}
+inline ::google::protobuf::uint32 UnpublishInteractionClass::interactionclasshandle() const {
+  return interactionclasshandle_;
+}
+inline void UnpublishInteractionClass::set_interactionclasshandle(::google::protobuf::uint32 value) {
+  set_has_interactionclasshandle();
+  interactionclasshandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// SubscribeObjectClassAttributes
+
+// required uint32 objectClassHandle = 1;
+inline bool SubscribeObjectClassAttributes::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void SubscribeObjectClassAttributes::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void SubscribeObjectClassAttributes::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void SubscribeObjectClassAttributes::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 SubscribeObjectClassAttributes::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void SubscribeObjectClassAttributes::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int SubscribeObjectClassAttributes::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void SubscribeObjectClassAttributes::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 SubscribeObjectClassAttributes::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void SubscribeObjectClassAttributes::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void SubscribeObjectClassAttributes::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+SubscribeObjectClassAttributes::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+SubscribeObjectClassAttributes::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// required bool passive = 3;
+inline bool SubscribeObjectClassAttributes::has_passive() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void SubscribeObjectClassAttributes::set_has_passive() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void SubscribeObjectClassAttributes::clear_has_passive() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void SubscribeObjectClassAttributes::clear_passive() {
+  passive_ = false;
+  clear_has_passive();
+}
+inline bool SubscribeObjectClassAttributes::passive() const {
+  return passive_;
+}
+inline void SubscribeObjectClassAttributes::set_passive(bool value) {
+  set_has_passive();
+  passive_ = value;
+}
+
+// optional string updateRateDesignator = 4;
+inline bool SubscribeObjectClassAttributes::has_updateratedesignator() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void SubscribeObjectClassAttributes::set_has_updateratedesignator() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void SubscribeObjectClassAttributes::clear_has_updateratedesignator() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void SubscribeObjectClassAttributes::clear_updateratedesignator() {
+  if (updateratedesignator_ != &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_->clear();
+  }
+  clear_has_updateratedesignator();
+}
+inline const ::std::string& SubscribeObjectClassAttributes::updateratedesignator() const {
+  return *updateratedesignator_;
+}
+inline void SubscribeObjectClassAttributes::set_updateratedesignator(const ::std::string& value) {
+  set_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_ = new ::std::string;
+  }
+  updateratedesignator_->assign(value);
+}
+inline void SubscribeObjectClassAttributes::set_updateratedesignator(const char* value) {
+  set_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_ = new ::std::string;
+  }
+  updateratedesignator_->assign(value);
+}
+inline void SubscribeObjectClassAttributes::set_updateratedesignator(const char* value, size_t size) {
+  set_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_ = new ::std::string;
+  }
+  updateratedesignator_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* SubscribeObjectClassAttributes::mutable_updateratedesignator() {
+  set_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_ = new ::std::string;
+  }
+  return updateratedesignator_;
+}
+inline ::std::string* SubscribeObjectClassAttributes::release_updateratedesignator() {
+  clear_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = updateratedesignator_;
+    updateratedesignator_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void SubscribeObjectClassAttributes::set_allocated_updateratedesignator(::std::string* updateratedesignator) {
+  if (updateratedesignator_ != &::google::protobuf::internal::kEmptyString) {
+    delete updateratedesignator_;
+  }
+  if (updateratedesignator) {
+    set_has_updateratedesignator();
+    updateratedesignator_ = updateratedesignator;
+  } else {
+    clear_has_updateratedesignator();
+    updateratedesignator_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// UnsubscribeObjectClassAttributes
+
+// required uint32 objectClassHandle = 1;
+inline bool UnsubscribeObjectClassAttributes::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void UnsubscribeObjectClassAttributes::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void UnsubscribeObjectClassAttributes::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void UnsubscribeObjectClassAttributes::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 UnsubscribeObjectClassAttributes::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void UnsubscribeObjectClassAttributes::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int UnsubscribeObjectClassAttributes::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void UnsubscribeObjectClassAttributes::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 UnsubscribeObjectClassAttributes::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void UnsubscribeObjectClassAttributes::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void UnsubscribeObjectClassAttributes::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+UnsubscribeObjectClassAttributes::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+UnsubscribeObjectClassAttributes::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// SubscribeInteractionClass
+
+// required uint32 interactionClassHandle = 1;
+inline bool SubscribeInteractionClass::has_interactionclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void SubscribeInteractionClass::set_has_interactionclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void SubscribeInteractionClass::clear_has_interactionclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void SubscribeInteractionClass::clear_interactionclasshandle() {
+  interactionclasshandle_ = 0u;
+  clear_has_interactionclasshandle();
+}
+inline ::google::protobuf::uint32 SubscribeInteractionClass::interactionclasshandle() const {
+  return interactionclasshandle_;
+}
+inline void SubscribeInteractionClass::set_interactionclasshandle(::google::protobuf::uint32 value) {
+  set_has_interactionclasshandle();
+  interactionclasshandle_ = value;
+}
+
+// required bool passive = 2;
+inline bool SubscribeInteractionClass::has_passive() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void SubscribeInteractionClass::set_has_passive() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void SubscribeInteractionClass::clear_has_passive() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void SubscribeInteractionClass::clear_passive() {
+  passive_ = false;
+  clear_has_passive();
+}
+inline bool SubscribeInteractionClass::passive() const {
+  return passive_;
+}
+inline void SubscribeInteractionClass::set_passive(bool value) {
+  set_has_passive();
+  passive_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// UnsubscribeInteractionClass
+
+// required uint32 interactionClassHandle = 1;
+inline bool UnsubscribeInteractionClass::has_interactionclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void UnsubscribeInteractionClass::set_has_interactionclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void UnsubscribeInteractionClass::clear_has_interactionclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void UnsubscribeInteractionClass::clear_interactionclasshandle() {
+  interactionclasshandle_ = 0u;
+  clear_has_interactionclasshandle();
+}
+inline ::google::protobuf::uint32 UnsubscribeInteractionClass::interactionclasshandle() const {
+  return interactionclasshandle_;
+}
+inline void UnsubscribeInteractionClass::set_interactionclasshandle(::google::protobuf::uint32 value) {
+  set_has_interactionclasshandle();
+  interactionclasshandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// ReserveObjectInstanceName
+
+// required string objectInstanceName = 1;
+inline bool ReserveObjectInstanceName::has_objectinstancename() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ReserveObjectInstanceName::set_has_objectinstancename() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ReserveObjectInstanceName::clear_has_objectinstancename() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ReserveObjectInstanceName::clear_objectinstancename() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_->clear();
+  }
+  clear_has_objectinstancename();
+}
+inline const ::std::string& ReserveObjectInstanceName::objectinstancename() const {
+  return *objectinstancename_;
+}
+inline void ReserveObjectInstanceName::set_objectinstancename(const ::std::string& value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void ReserveObjectInstanceName::set_objectinstancename(const char* value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void ReserveObjectInstanceName::set_objectinstancename(const char* value, size_t size) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ReserveObjectInstanceName::mutable_objectinstancename() {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  return objectinstancename_;
+}
+inline ::std::string* ReserveObjectInstanceName::release_objectinstancename() {
+  clear_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = objectinstancename_;
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void ReserveObjectInstanceName::set_allocated_objectinstancename(::std::string* objectinstancename) {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (objectinstancename) {
+    set_has_objectinstancename();
+    objectinstancename_ = objectinstancename;
+  } else {
+    clear_has_objectinstancename();
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// ReleaseObjectInstanceName
+
+// required string objectInstanceName = 1;
+inline bool ReleaseObjectInstanceName::has_objectinstancename() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ReleaseObjectInstanceName::set_has_objectinstancename() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ReleaseObjectInstanceName::clear_has_objectinstancename() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ReleaseObjectInstanceName::clear_objectinstancename() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_->clear();
+  }
+  clear_has_objectinstancename();
+}
+inline const ::std::string& ReleaseObjectInstanceName::objectinstancename() const {
+  return *objectinstancename_;
+}
+inline void ReleaseObjectInstanceName::set_objectinstancename(const ::std::string& value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void ReleaseObjectInstanceName::set_objectinstancename(const char* value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void ReleaseObjectInstanceName::set_objectinstancename(const char* value, size_t size) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ReleaseObjectInstanceName::mutable_objectinstancename() {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  return objectinstancename_;
+}
+inline ::std::string* ReleaseObjectInstanceName::release_objectinstancename() {
+  clear_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = objectinstancename_;
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void ReleaseObjectInstanceName::set_allocated_objectinstancename(::std::string* objectinstancename) {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (objectinstancename) {
+    set_has_objectinstancename();
+    objectinstancename_ = objectinstancename;
+  } else {
+    clear_has_objectinstancename();
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// ReserveMultipleObjectInstanceName
+
+// repeated string objectInstanceNames = 1;
+inline int ReserveMultipleObjectInstanceName::objectinstancenames_size() const {
+  return objectinstancenames_.size();
+}
+inline void ReserveMultipleObjectInstanceName::clear_objectinstancenames() {
+  objectinstancenames_.Clear();
+}
+inline const ::std::string& ReserveMultipleObjectInstanceName::objectinstancenames(int index) const {
+  return objectinstancenames_.Get(index);
+}
+inline ::std::string* ReserveMultipleObjectInstanceName::mutable_objectinstancenames(int index) {
+  return objectinstancenames_.Mutable(index);
+}
+inline void ReserveMultipleObjectInstanceName::set_objectinstancenames(int index, const ::std::string& value) {
+  objectinstancenames_.Mutable(index)->assign(value);
+}
+inline void ReserveMultipleObjectInstanceName::set_objectinstancenames(int index, const char* value) {
+  objectinstancenames_.Mutable(index)->assign(value);
+}
+inline void ReserveMultipleObjectInstanceName::set_objectinstancenames(int index, const char* value, size_t size) {
+  objectinstancenames_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ReserveMultipleObjectInstanceName::add_objectinstancenames() {
+  return objectinstancenames_.Add();
+}
+inline void ReserveMultipleObjectInstanceName::add_objectinstancenames(const ::std::string& value) {
+  objectinstancenames_.Add()->assign(value);
+}
+inline void ReserveMultipleObjectInstanceName::add_objectinstancenames(const char* value) {
+  objectinstancenames_.Add()->assign(value);
+}
+inline void ReserveMultipleObjectInstanceName::add_objectinstancenames(const char* value, size_t size) {
+  objectinstancenames_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+ReserveMultipleObjectInstanceName::objectinstancenames() const {
+  return objectinstancenames_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+ReserveMultipleObjectInstanceName::mutable_objectinstancenames() {
+  return &objectinstancenames_;
+}
+
+// -------------------------------------------------------------------
+
+// ReleaseMultipleObjectInstanceName
+
+// repeated string objectInstanceNames = 1;
+inline int ReleaseMultipleObjectInstanceName::objectinstancenames_size() const {
+  return objectinstancenames_.size();
+}
+inline void ReleaseMultipleObjectInstanceName::clear_objectinstancenames() {
+  objectinstancenames_.Clear();
+}
+inline const ::std::string& ReleaseMultipleObjectInstanceName::objectinstancenames(int index) const {
+  return objectinstancenames_.Get(index);
+}
+inline ::std::string* ReleaseMultipleObjectInstanceName::mutable_objectinstancenames(int index) {
+  return objectinstancenames_.Mutable(index);
+}
+inline void ReleaseMultipleObjectInstanceName::set_objectinstancenames(int index, const ::std::string& value) {
+  objectinstancenames_.Mutable(index)->assign(value);
+}
+inline void ReleaseMultipleObjectInstanceName::set_objectinstancenames(int index, const char* value) {
+  objectinstancenames_.Mutable(index)->assign(value);
+}
+inline void ReleaseMultipleObjectInstanceName::set_objectinstancenames(int index, const char* value, size_t size) {
+  objectinstancenames_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ReleaseMultipleObjectInstanceName::add_objectinstancenames() {
+  return objectinstancenames_.Add();
+}
+inline void ReleaseMultipleObjectInstanceName::add_objectinstancenames(const ::std::string& value) {
+  objectinstancenames_.Add()->assign(value);
+}
+inline void ReleaseMultipleObjectInstanceName::add_objectinstancenames(const char* value) {
+  objectinstancenames_.Add()->assign(value);
+}
+inline void ReleaseMultipleObjectInstanceName::add_objectinstancenames(const char* value, size_t size) {
+  objectinstancenames_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+ReleaseMultipleObjectInstanceName::objectinstancenames() const {
+  return objectinstancenames_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+ReleaseMultipleObjectInstanceName::mutable_objectinstancenames() {
+  return &objectinstancenames_;
+}
+
+// -------------------------------------------------------------------
+
+// AttributeRegionAssociation
+
+// repeated uint32 attributeHandles = 1;
+inline int AttributeRegionAssociation::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void AttributeRegionAssociation::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 AttributeRegionAssociation::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void AttributeRegionAssociation::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void AttributeRegionAssociation::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+AttributeRegionAssociation::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+AttributeRegionAssociation::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+inline int AttributeRegionAssociation::regionhandles_size() const {
+  return regionhandles_.size();
+}
+inline void AttributeRegionAssociation::clear_regionhandles() {
+  regionhandles_.Clear();
+}
+inline const ::ohla::rti::proto::RegionHandle& AttributeRegionAssociation::regionhandles(int index) const {
+  return regionhandles_.Get(index);
+}
+inline ::ohla::rti::proto::RegionHandle* AttributeRegionAssociation::mutable_regionhandles(int index) {
+  return regionhandles_.Mutable(index);
+}
+inline ::ohla::rti::proto::RegionHandle* AttributeRegionAssociation::add_regionhandles() {
+  return regionhandles_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >&
+AttributeRegionAssociation::regionhandles() const {
+  return regionhandles_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >*
+AttributeRegionAssociation::mutable_regionhandles() {
+  return &regionhandles_;
+}
+
+// -------------------------------------------------------------------
+
+// RegisterObjectInstance
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool RegisterObjectInstance::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RegisterObjectInstance::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RegisterObjectInstance::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RegisterObjectInstance::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& RegisterObjectInstance::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* RegisterObjectInstance::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* RegisterObjectInstance::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void RegisterObjectInstance::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// required uint32 objectClassHandle = 2;
+inline bool RegisterObjectInstance::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void RegisterObjectInstance::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void RegisterObjectInstance::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void RegisterObjectInstance::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 RegisterObjectInstance::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void RegisterObjectInstance::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// required string objectInstanceName = 3;
+inline bool RegisterObjectInstance::has_objectinstancename() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void RegisterObjectInstance::set_has_objectinstancename() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void RegisterObjectInstance::clear_has_objectinstancename() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void RegisterObjectInstance::clear_objectinstancename() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_->clear();
+  }
+  clear_has_objectinstancename();
+}
+inline const ::std::string& RegisterObjectInstance::objectinstancename() const {
+  return *objectinstancename_;
+}
+inline void RegisterObjectInstance::set_objectinstancename(const ::std::string& value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void RegisterObjectInstance::set_objectinstancename(const char* value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void RegisterObjectInstance::set_objectinstancename(const char* value, size_t size) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RegisterObjectInstance::mutable_objectinstancename() {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  return objectinstancename_;
+}
+inline ::std::string* RegisterObjectInstance::release_objectinstancename() {
+  clear_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = objectinstancename_;
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RegisterObjectInstance::set_allocated_objectinstancename(::std::string* objectinstancename) {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (objectinstancename) {
+    set_has_objectinstancename();
+    objectinstancename_ = objectinstancename;
+  } else {
+    clear_has_objectinstancename();
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// repeated uint32 publishedAttributeHandles = 4;
+inline int RegisterObjectInstance::publishedattributehandles_size() const {
+  return publishedattributehandles_.size();
+}
+inline void RegisterObjectInstance::clear_publishedattributehandles() {
+  publishedattributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 RegisterObjectInstance::publishedattributehandles(int index) const {
+  return publishedattributehandles_.Get(index);
+}
+inline void RegisterObjectInstance::set_publishedattributehandles(int index, ::google::protobuf::uint32 value) {
+  publishedattributehandles_.Set(index, value);
+}
+inline void RegisterObjectInstance::add_publishedattributehandles(::google::protobuf::uint32 value) {
+  publishedattributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+RegisterObjectInstance::publishedattributehandles() const {
+  return publishedattributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+RegisterObjectInstance::mutable_publishedattributehandles() {
+  return &publishedattributehandles_;
+}
+
+// repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 5;
+inline int RegisterObjectInstance::attributeregionassociations_size() const {
+  return attributeregionassociations_.size();
+}
+inline void RegisterObjectInstance::clear_attributeregionassociations() {
+  attributeregionassociations_.Clear();
+}
+inline const ::ohla::rti::messages::proto::AttributeRegionAssociation& RegisterObjectInstance::attributeregionassociations(int index) const {
+  return attributeregionassociations_.Get(index);
+}
+inline ::ohla::rti::messages::proto::AttributeRegionAssociation* RegisterObjectInstance::mutable_attributeregionassociations(int index) {
+  return attributeregionassociations_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::AttributeRegionAssociation* RegisterObjectInstance::add_attributeregionassociations() {
+  return attributeregionassociations_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >&
+RegisterObjectInstance::attributeregionassociations() const {
+  return attributeregionassociations_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >*
+RegisterObjectInstance::mutable_attributeregionassociations() {
+  return &attributeregionassociations_;
+}
+
+// -------------------------------------------------------------------
+
+// RegisterObjectInstanceWithRegions
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool RegisterObjectInstanceWithRegions::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RegisterObjectInstanceWithRegions::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RegisterObjectInstanceWithRegions::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RegisterObjectInstanceWithRegions::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& RegisterObjectInstanceWithRegions::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* RegisterObjectInstanceWithRegions::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* RegisterObjectInstanceWithRegions::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void RegisterObjectInstanceWithRegions::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// required uint32 objectClassHandle = 2;
+inline bool RegisterObjectInstanceWithRegions::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void RegisterObjectInstanceWithRegions::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void RegisterObjectInstanceWithRegions::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void RegisterObjectInstanceWithRegions::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 RegisterObjectInstanceWithRegions::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void RegisterObjectInstanceWithRegions::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// optional string objectInstanceName = 3;
+inline bool RegisterObjectInstanceWithRegions::has_objectinstancename() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void RegisterObjectInstanceWithRegions::set_has_objectinstancename() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void RegisterObjectInstanceWithRegions::clear_has_objectinstancename() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void RegisterObjectInstanceWithRegions::clear_objectinstancename() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_->clear();
+  }
+  clear_has_objectinstancename();
+}
+inline const ::std::string& RegisterObjectInstanceWithRegions::objectinstancename() const {
+  return *objectinstancename_;
+}
+inline void RegisterObjectInstanceWithRegions::set_objectinstancename(const ::std::string& value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void RegisterObjectInstanceWithRegions::set_objectinstancename(const char* value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void RegisterObjectInstanceWithRegions::set_objectinstancename(const char* value, size_t size) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RegisterObjectInstanceWithRegions::mutable_objectinstancename() {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  return objectinstancename_;
+}
+inline ::std::string* RegisterObjectInstanceWithRegions::release_objectinstancename() {
+  clear_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = objectinstancename_;
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RegisterObjectInstanceWithRegions::set_allocated_objectinstancename(::std::string* objectinstancename) {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (objectinstancename) {
+    set_has_objectinstancename();
+    objectinstancename_ = objectinstancename;
+  } else {
+    clear_has_objectinstancename();
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// repeated uint32 publishedAttributeHandles = 4;
+inline int RegisterObjectInstanceWithRegions::publishedattributehandles_size() const {
+  return publishedattributehandles_.size();
+}
+inline void RegisterObjectInstanceWithRegions::clear_publishedattributehandles() {
+  publishedattributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 RegisterObjectInstanceWithRegions::publishedattributehandles(int index) const {
+  return publishedattributehandles_.Get(index);
+}
+inline void RegisterObjectInstanceWithRegions::set_publishedattributehandles(int index, ::google::protobuf::uint32 value) {
+  publishedattributehandles_.Set(index, value);
+}
+inline void RegisterObjectInstanceWithRegions::add_publishedattributehandles(::google::protobuf::uint32 value) {
+  publishedattributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+RegisterObjectInstanceWithRegions::publishedattributehandles() const {
+  return publishedattributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+RegisterObjectInstanceWithRegions::mutable_publishedattributehandles() {
+  return &publishedattributehandles_;
+}
+
+// repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 5;
+inline int RegisterObjectInstanceWithRegions::attributeregionassociations_size() const {
+  return attributeregionassociations_.size();
+}
+inline void RegisterObjectInstanceWithRegions::clear_attributeregionassociations() {
+  attributeregionassociations_.Clear();
+}
+inline const ::ohla::rti::messages::proto::AttributeRegionAssociation& RegisterObjectInstanceWithRegions::attributeregionassociations(int index) const {
+  return attributeregionassociations_.Get(index);
+}
+inline ::ohla::rti::messages::proto::AttributeRegionAssociation* RegisterObjectInstanceWithRegions::mutable_attributeregionassociations(int index) {
+  return attributeregionassociations_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::AttributeRegionAssociation* RegisterObjectInstanceWithRegions::add_attributeregionassociations() {
+  return attributeregionassociations_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >&
+RegisterObjectInstanceWithRegions::attributeregionassociations() const {
+  return attributeregionassociations_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >*
+RegisterObjectInstanceWithRegions::mutable_attributeregionassociations() {
+  return &attributeregionassociations_;
+}
+
+// -------------------------------------------------------------------
+
+// UpdateAttributeValues
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool UpdateAttributeValues::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void UpdateAttributeValues::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void UpdateAttributeValues::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void UpdateAttributeValues::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& UpdateAttributeValues::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* UpdateAttributeValues::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* UpdateAttributeValues::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void UpdateAttributeValues::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated .ohla.rti.messages.proto.AttributeValue attributeValues = 2;
+inline int UpdateAttributeValues::attributevalues_size() const {
+  return attributevalues_.size();
+}
+inline void UpdateAttributeValues::clear_attributevalues() {
+  attributevalues_.Clear();
+}
+inline const ::ohla::rti::messages::proto::AttributeValue& UpdateAttributeValues::attributevalues(int index) const {
+  return attributevalues_.Get(index);
+}
+inline ::ohla::rti::messages::proto::AttributeValue* UpdateAttributeValues::mutable_attributevalues(int index) {
+  return attributevalues_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::AttributeValue* UpdateAttributeValues::add_attributevalues() {
+  return attributevalues_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeValue >&
+UpdateAttributeValues::attributevalues() const {
+  return attributevalues_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeValue >*
+UpdateAttributeValues::mutable_attributevalues() {
+  return &attributevalues_;
+}
+
+// optional bytes tag = 3;
+inline bool UpdateAttributeValues::has_tag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void UpdateAttributeValues::set_has_tag() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void UpdateAttributeValues::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void UpdateAttributeValues::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& UpdateAttributeValues::tag() const {
+  return *tag_;
+}
+inline void UpdateAttributeValues::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void UpdateAttributeValues::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void UpdateAttributeValues::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* UpdateAttributeValues::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* UpdateAttributeValues::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void UpdateAttributeValues::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional .ohla.rti.proto.OrderType sentOrderType = 4 [default = RECEIVE];
+inline bool UpdateAttributeValues::has_sentordertype() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void UpdateAttributeValues::set_has_sentordertype() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void UpdateAttributeValues::clear_has_sentordertype() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void UpdateAttributeValues::clear_sentordertype() {
+  sentordertype_ = 1;
+  clear_has_sentordertype();
+}
+inline ::ohla::rti::proto::OrderType UpdateAttributeValues::sentordertype() const {
+  return static_cast< ::ohla::rti::proto::OrderType >(sentordertype_);
+}
+inline void UpdateAttributeValues::set_sentordertype(::ohla::rti::proto::OrderType value) {
+  assert(::ohla::rti::proto::OrderType_IsValid(value));
+  set_has_sentordertype();
+  sentordertype_ = value;
+}
+
+// required uint32 transportationTypeHandle = 5;
+inline bool UpdateAttributeValues::has_transportationtypehandle() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void UpdateAttributeValues::set_has_transportationtypehandle() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void UpdateAttributeValues::clear_has_transportationtypehandle() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void UpdateAttributeValues::clear_transportationtypehandle() {
+  transportationtypehandle_ = 0u;
+  clear_has_transportationtypehandle();
+}
+inline ::google::protobuf::uint32 UpdateAttributeValues::transportationtypehandle() const {
+  return transportationtypehandle_;
+}
+inline void UpdateAttributeValues::set_transportationtypehandle(::google::protobuf::uint32 value) {
+  set_has_transportationtypehandle();
+  transportationtypehandle_ = value;
+}
+
+// optional bytes time = 6;
+inline bool UpdateAttributeValues::has_time() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void UpdateAttributeValues::set_has_time() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void UpdateAttributeValues::clear_has_time() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void UpdateAttributeValues::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& UpdateAttributeValues::time() const {
+  return *time_;
+}
+inline void UpdateAttributeValues::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void UpdateAttributeValues::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void UpdateAttributeValues::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* UpdateAttributeValues::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* UpdateAttributeValues::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void UpdateAttributeValues::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 7;
+inline bool UpdateAttributeValues::has_messageretractionhandle() const {
+  return (_has_bits_[0] & 0x00000040u) != 0;
+}
+inline void UpdateAttributeValues::set_has_messageretractionhandle() {
+  _has_bits_[0] |= 0x00000040u;
+}
+inline void UpdateAttributeValues::clear_has_messageretractionhandle() {
+  _has_bits_[0] &= ~0x00000040u;
+}
+inline void UpdateAttributeValues::clear_messageretractionhandle() {
+  if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+  clear_has_messageretractionhandle();
+}
+inline const ::ohla::rti::proto::MessageRetractionHandle& UpdateAttributeValues::messageretractionhandle() const {
+  return messageretractionhandle_ != NULL ? *messageretractionhandle_ : *default_instance_->messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* UpdateAttributeValues::mutable_messageretractionhandle() {
+  set_has_messageretractionhandle();
+  if (messageretractionhandle_ == NULL) messageretractionhandle_ = new ::ohla::rti::proto::MessageRetractionHandle;
+  return messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* UpdateAttributeValues::release_messageretractionhandle() {
+  clear_has_messageretractionhandle();
+  ::ohla::rti::proto::MessageRetractionHandle* temp = messageretractionhandle_;
+  messageretractionhandle_ = NULL;
+  return temp;
+}
+inline void UpdateAttributeValues::set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle) {
+  delete messageretractionhandle_;
+  messageretractionhandle_ = messageretractionhandle;
+  if (messageretractionhandle) {
+    set_has_messageretractionhandle();
+  } else {
+    clear_has_messageretractionhandle();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// SendInteraction
+
+// required uint32 interactionClassHandle = 1;
+inline bool SendInteraction::has_interactionclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void SendInteraction::set_has_interactionclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void SendInteraction::clear_has_interactionclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void SendInteraction::clear_interactionclasshandle() {
+  interactionclasshandle_ = 0u;
+  clear_has_interactionclasshandle();
+}
+inline ::google::protobuf::uint32 SendInteraction::interactionclasshandle() const {
+  return interactionclasshandle_;
+}
+inline void SendInteraction::set_interactionclasshandle(::google::protobuf::uint32 value) {
+  set_has_interactionclasshandle();
+  interactionclasshandle_ = value;
+}
+
+// repeated .ohla.rti.messages.proto.ParameterValue parameterValues = 2;
+inline int SendInteraction::parametervalues_size() const {
+  return parametervalues_.size();
+}
+inline void SendInteraction::clear_parametervalues() {
+  parametervalues_.Clear();
+}
+inline const ::ohla::rti::messages::proto::ParameterValue& SendInteraction::parametervalues(int index) const {
+  return parametervalues_.Get(index);
+}
+inline ::ohla::rti::messages::proto::ParameterValue* SendInteraction::mutable_parametervalues(int index) {
+  return parametervalues_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::ParameterValue* SendInteraction::add_parametervalues() {
+  return parametervalues_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ParameterValue >&
+SendInteraction::parametervalues() const {
+  return parametervalues_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::ParameterValue >*
+SendInteraction::mutable_parametervalues() {
+  return &parametervalues_;
+}
+
+// optional bytes tag = 3;
+inline bool SendInteraction::has_tag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void SendInteraction::set_has_tag() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void SendInteraction::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void SendInteraction::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& SendInteraction::tag() const {
+  return *tag_;
+}
+inline void SendInteraction::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void SendInteraction::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void SendInteraction::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* SendInteraction::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* SendInteraction::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void SendInteraction::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional .ohla.rti.proto.OrderType sentOrderType = 4 [default = RECEIVE];
+inline bool SendInteraction::has_sentordertype() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void SendInteraction::set_has_sentordertype() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void SendInteraction::clear_has_sentordertype() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void SendInteraction::clear_sentordertype() {
+  sentordertype_ = 1;
+  clear_has_sentordertype();
+}
+inline ::ohla::rti::proto::OrderType SendInteraction::sentordertype() const {
+  return static_cast< ::ohla::rti::proto::OrderType >(sentordertype_);
+}
+inline void SendInteraction::set_sentordertype(::ohla::rti::proto::OrderType value) {
+  assert(::ohla::rti::proto::OrderType_IsValid(value));
+  set_has_sentordertype();
+  sentordertype_ = value;
+}
+
+// required uint32 transportationTypeHandle = 5;
+inline bool SendInteraction::has_transportationtypehandle() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void SendInteraction::set_has_transportationtypehandle() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void SendInteraction::clear_has_transportationtypehandle() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void SendInteraction::clear_transportationtypehandle() {
+  transportationtypehandle_ = 0u;
+  clear_has_transportationtypehandle();
+}
+inline ::google::protobuf::uint32 SendInteraction::transportationtypehandle() const {
+  return transportationtypehandle_;
+}
+inline void SendInteraction::set_transportationtypehandle(::google::protobuf::uint32 value) {
+  set_has_transportationtypehandle();
+  transportationtypehandle_ = value;
+}
+
+// optional bytes time = 6;
+inline bool SendInteraction::has_time() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void SendInteraction::set_has_time() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void SendInteraction::clear_has_time() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void SendInteraction::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& SendInteraction::time() const {
+  return *time_;
+}
+inline void SendInteraction::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void SendInteraction::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void SendInteraction::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* SendInteraction::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* SendInteraction::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void SendInteraction::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 7;
+inline bool SendInteraction::has_messageretractionhandle() const {
+  return (_has_bits_[0] & 0x00000040u) != 0;
+}
+inline void SendInteraction::set_has_messageretractionhandle() {
+  _has_bits_[0] |= 0x00000040u;
+}
+inline void SendInteraction::clear_has_messageretractionhandle() {
+  _has_bits_[0] &= ~0x00000040u;
+}
+inline void SendInteraction::clear_messageretractionhandle() {
+  if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+  clear_has_messageretractionhandle();
+}
+inline const ::ohla::rti::proto::MessageRetractionHandle& SendInteraction::messageretractionhandle() const {
+  return messageretractionhandle_ != NULL ? *messageretractionhandle_ : *default_instance_->messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* SendInteraction::mutable_messageretractionhandle() {
+  set_has_messageretractionhandle();
+  if (messageretractionhandle_ == NULL) messageretractionhandle_ = new ::ohla::rti::proto::MessageRetractionHandle;
+  return messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* SendInteraction::release_messageretractionhandle() {
+  clear_has_messageretractionhandle();
+  ::ohla::rti::proto::MessageRetractionHandle* temp = messageretractionhandle_;
+  messageretractionhandle_ = NULL;
+  return temp;
+}
+inline void SendInteraction::set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle) {
+  delete messageretractionhandle_;
+  messageretractionhandle_ = messageretractionhandle;
+  if (messageretractionhandle) {
+    set_has_messageretractionhandle();
+  } else {
+    clear_has_messageretractionhandle();
+  }
+}
+
+// repeated .ohla.rti.proto.RegionHandle sentRegionHandles = 8;
+inline int SendInteraction::sentregionhandles_size() const {
+  return sentregionhandles_.size();
+}
+inline void SendInteraction::clear_sentregionhandles() {
+  sentregionhandles_.Clear();
+}
+inline const ::ohla::rti::proto::RegionHandle& SendInteraction::sentregionhandles(int index) const {
+  return sentregionhandles_.Get(index);
+}
+inline ::ohla::rti::proto::RegionHandle* SendInteraction::mutable_sentregionhandles(int index) {
+  return sentregionhandles_.Mutable(index);
+}
+inline ::ohla::rti::proto::RegionHandle* SendInteraction::add_sentregionhandles() {
+  return sentregionhandles_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >&
+SendInteraction::sentregionhandles() const {
+  return sentregionhandles_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >*
+SendInteraction::mutable_sentregionhandles() {
+  return &sentregionhandles_;
+}
+
+// -------------------------------------------------------------------
+
+// DeleteObjectInstance
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool DeleteObjectInstance::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void DeleteObjectInstance::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void DeleteObjectInstance::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void DeleteObjectInstance::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& DeleteObjectInstance::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* DeleteObjectInstance::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* DeleteObjectInstance::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void DeleteObjectInstance::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// optional bytes tag = 2;
+inline bool DeleteObjectInstance::has_tag() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void DeleteObjectInstance::set_has_tag() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void DeleteObjectInstance::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void DeleteObjectInstance::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& DeleteObjectInstance::tag() const {
+  return *tag_;
+}
+inline void DeleteObjectInstance::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void DeleteObjectInstance::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void DeleteObjectInstance::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* DeleteObjectInstance::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* DeleteObjectInstance::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void DeleteObjectInstance::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional .ohla.rti.proto.OrderType sentOrderType = 3 [default = RECEIVE];
+inline bool DeleteObjectInstance::has_sentordertype() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void DeleteObjectInstance::set_has_sentordertype() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void DeleteObjectInstance::clear_has_sentordertype() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void DeleteObjectInstance::clear_sentordertype() {
+  sentordertype_ = 1;
+  clear_has_sentordertype();
+}
+inline ::ohla::rti::proto::OrderType DeleteObjectInstance::sentordertype() const {
+  return static_cast< ::ohla::rti::proto::OrderType >(sentordertype_);
+}
+inline void DeleteObjectInstance::set_sentordertype(::ohla::rti::proto::OrderType value) {
+  assert(::ohla::rti::proto::OrderType_IsValid(value));
+  set_has_sentordertype();
+  sentordertype_ = value;
+}
+
+// optional bytes time = 4;
+inline bool DeleteObjectInstance::has_time() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void DeleteObjectInstance::set_has_time() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void DeleteObjectInstance::clear_has_time() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void DeleteObjectInstance::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& DeleteObjectInstance::time() const {
+  return *time_;
+}
+inline void DeleteObjectInstance::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void DeleteObjectInstance::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void DeleteObjectInstance::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* DeleteObjectInstance::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* DeleteObjectInstance::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void DeleteObjectInstance::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 5;
+inline bool DeleteObjectInstance::has_messageretractionhandle() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void DeleteObjectInstance::set_has_messageretractionhandle() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void DeleteObjectInstance::clear_has_messageretractionhandle() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void DeleteObjectInstance::clear_messageretractionhandle() {
+  if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+  clear_has_messageretractionhandle();
+}
+inline const ::ohla::rti::proto::MessageRetractionHandle& DeleteObjectInstance::messageretractionhandle() const {
+  return messageretractionhandle_ != NULL ? *messageretractionhandle_ : *default_instance_->messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* DeleteObjectInstance::mutable_messageretractionhandle() {
+  set_has_messageretractionhandle();
+  if (messageretractionhandle_ == NULL) messageretractionhandle_ = new ::ohla::rti::proto::MessageRetractionHandle;
+  return messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* DeleteObjectInstance::release_messageretractionhandle() {
+  clear_has_messageretractionhandle();
+  ::ohla::rti::proto::MessageRetractionHandle* temp = messageretractionhandle_;
+  messageretractionhandle_ = NULL;
+  return temp;
+}
+inline void DeleteObjectInstance::set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle) {
+  delete messageretractionhandle_;
+  messageretractionhandle_ = messageretractionhandle;
+  if (messageretractionhandle) {
+    set_has_messageretractionhandle();
+  } else {
+    clear_has_messageretractionhandle();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// LocalDeleteObjectInstance
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool LocalDeleteObjectInstance::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void LocalDeleteObjectInstance::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void LocalDeleteObjectInstance::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void LocalDeleteObjectInstance::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& LocalDeleteObjectInstance::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* LocalDeleteObjectInstance::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* LocalDeleteObjectInstance::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void LocalDeleteObjectInstance::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// RequestObjectInstanceAttributeValueUpdate
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool RequestObjectInstanceAttributeValueUpdate::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestObjectInstanceAttributeValueUpdate::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestObjectInstanceAttributeValueUpdate::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestObjectInstanceAttributeValueUpdate::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& RequestObjectInstanceAttributeValueUpdate::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* RequestObjectInstanceAttributeValueUpdate::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* RequestObjectInstanceAttributeValueUpdate::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void RequestObjectInstanceAttributeValueUpdate::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int RequestObjectInstanceAttributeValueUpdate::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void RequestObjectInstanceAttributeValueUpdate::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 RequestObjectInstanceAttributeValueUpdate::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void RequestObjectInstanceAttributeValueUpdate::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void RequestObjectInstanceAttributeValueUpdate::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+RequestObjectInstanceAttributeValueUpdate::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+RequestObjectInstanceAttributeValueUpdate::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// optional bytes tag = 3;
+inline bool RequestObjectInstanceAttributeValueUpdate::has_tag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void RequestObjectInstanceAttributeValueUpdate::set_has_tag() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void RequestObjectInstanceAttributeValueUpdate::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void RequestObjectInstanceAttributeValueUpdate::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& RequestObjectInstanceAttributeValueUpdate::tag() const {
+  return *tag_;
+}
+inline void RequestObjectInstanceAttributeValueUpdate::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void RequestObjectInstanceAttributeValueUpdate::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void RequestObjectInstanceAttributeValueUpdate::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RequestObjectInstanceAttributeValueUpdate::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* RequestObjectInstanceAttributeValueUpdate::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RequestObjectInstanceAttributeValueUpdate::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// RequestObjectClassAttributeValueUpdate
+
+// required uint32 objectClassHandle = 1;
+inline bool RequestObjectClassAttributeValueUpdate::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestObjectClassAttributeValueUpdate::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestObjectClassAttributeValueUpdate::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestObjectClassAttributeValueUpdate::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 RequestObjectClassAttributeValueUpdate::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void RequestObjectClassAttributeValueUpdate::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int RequestObjectClassAttributeValueUpdate::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void RequestObjectClassAttributeValueUpdate::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 RequestObjectClassAttributeValueUpdate::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void RequestObjectClassAttributeValueUpdate::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void RequestObjectClassAttributeValueUpdate::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+RequestObjectClassAttributeValueUpdate::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+RequestObjectClassAttributeValueUpdate::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// optional bytes tag = 3;
+inline bool RequestObjectClassAttributeValueUpdate::has_tag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void RequestObjectClassAttributeValueUpdate::set_has_tag() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void RequestObjectClassAttributeValueUpdate::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void RequestObjectClassAttributeValueUpdate::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& RequestObjectClassAttributeValueUpdate::tag() const {
+  return *tag_;
+}
+inline void RequestObjectClassAttributeValueUpdate::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void RequestObjectClassAttributeValueUpdate::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void RequestObjectClassAttributeValueUpdate::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RequestObjectClassAttributeValueUpdate::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* RequestObjectClassAttributeValueUpdate::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RequestObjectClassAttributeValueUpdate::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// RequestObjectClassAttributeValueUpdateWithRegions
+
+// required uint32 objectClassHandle = 1;
+inline bool RequestObjectClassAttributeValueUpdateWithRegions::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RequestObjectClassAttributeValueUpdateWithRegions::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RequestObjectClassAttributeValueUpdateWithRegions::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RequestObjectClassAttributeValueUpdateWithRegions::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 RequestObjectClassAttributeValueUpdateWithRegions::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void RequestObjectClassAttributeValueUpdateWithRegions::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+inline int RequestObjectClassAttributeValueUpdateWithRegions::attributeregionassociations_size() const {
+  return attributeregionassociations_.size();
+}
+inline void RequestObjectClassAttributeValueUpdateWithRegions::clear_attributeregionassociations() {
+  attributeregionassociations_.Clear();
+}
+inline const ::ohla::rti::messages::proto::AttributeRegionAssociation& RequestObjectClassAttributeValueUpdateWithRegions::attributeregionassociations(int index) const {
+  return attributeregionassociations_.Get(index);
+}
+inline ::ohla::rti::messages::proto::AttributeRegionAssociation* RequestObjectClassAttributeValueUpdateWithRegions::mutable_attributeregionassociations(int index) {
+  return attributeregionassociations_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::AttributeRegionAssociation* RequestObjectClassAttributeValueUpdateWithRegions::add_attributeregionassociations() {
+  return attributeregionassociations_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >&
+RequestObjectClassAttributeValueUpdateWithRegions::attributeregionassociations() const {
+  return attributeregionassociations_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >*
+RequestObjectClassAttributeValueUpdateWithRegions::mutable_attributeregionassociations() {
+  return &attributeregionassociations_;
+}
+
+// optional bytes tag = 3;
+inline bool RequestObjectClassAttributeValueUpdateWithRegions::has_tag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void RequestObjectClassAttributeValueUpdateWithRegions::set_has_tag() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void RequestObjectClassAttributeValueUpdateWithRegions::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void RequestObjectClassAttributeValueUpdateWithRegions::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& RequestObjectClassAttributeValueUpdateWithRegions::tag() const {
+  return *tag_;
+}
+inline void RequestObjectClassAttributeValueUpdateWithRegions::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void RequestObjectClassAttributeValueUpdateWithRegions::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void RequestObjectClassAttributeValueUpdateWithRegions::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* RequestObjectClassAttributeValueUpdateWithRegions::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* RequestObjectClassAttributeValueUpdateWithRegions::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void RequestObjectClassAttributeValueUpdateWithRegions::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// SetAutomaticResignDirective
+
+// required .ohla.rti.proto.ResignAction resignAction = 1;
+inline bool SetAutomaticResignDirective::has_resignaction() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void SetAutomaticResignDirective::set_has_resignaction() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void SetAutomaticResignDirective::clear_has_resignaction() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void SetAutomaticResignDirective::clear_resignaction() {
+  resignaction_ = 1;
+  clear_has_resignaction();
+}
+inline ::ohla::rti::proto::ResignAction SetAutomaticResignDirective::resignaction() const {
+  return static_cast< ::ohla::rti::proto::ResignAction >(resignaction_);
+}
+inline void SetAutomaticResignDirective::set_resignaction(::ohla::rti::proto::ResignAction value) {
+  assert(::ohla::rti::proto::ResignAction_IsValid(value));
+  set_has_resignaction();
+  resignaction_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// GetFederateHandle
+
+// required uint64 requestId = 1;
+inline bool GetFederateHandle::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void GetFederateHandle::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void GetFederateHandle::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void GetFederateHandle::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 GetFederateHandle::requestid() const {
+  return requestid_;
+}
+inline void GetFederateHandle::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// required string federateName = 2;
+inline bool GetFederateHandle::has_federatename() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void GetFederateHandle::set_has_federatename() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void GetFederateHandle::clear_has_federatename() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void GetFederateHandle::clear_federatename() {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    federatename_->clear();
+  }
+  clear_has_federatename();
+}
+inline const ::std::string& GetFederateHandle::federatename() const {
+  return *federatename_;
+}
+inline void GetFederateHandle::set_federatename(const ::std::string& value) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(value);
+}
+inline void GetFederateHandle::set_federatename(const char* value) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(value);
+}
+inline void GetFederateHandle::set_federatename(const char* value, size_t size) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* GetFederateHandle::mutable_federatename() {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  return federatename_;
+}
+inline ::std::string* GetFederateHandle::release_federatename() {
+  clear_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federatename_;
+    federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void GetFederateHandle::set_allocated_federatename(::std::string* federatename) {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatename_;
+  }
+  if (federatename) {
+    set_has_federatename();
+    federatename_ = federatename;
+  } else {
+    clear_has_federatename();
+    federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// GetFederateName
+
+// required uint64 requestId = 1;
+inline bool GetFederateName::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void GetFederateName::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void GetFederateName::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void GetFederateName::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 GetFederateName::requestid() const {
+  return requestid_;
+}
+inline void GetFederateName::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// required uint32 federateHandle = 2;
+inline bool GetFederateName::has_federatehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void GetFederateName::set_has_federatehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void GetFederateName::clear_has_federatehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void GetFederateName::clear_federatehandle() {
+  federatehandle_ = 0u;
+  clear_has_federatehandle();
+}
+inline ::google::protobuf::uint32 GetFederateName::federatehandle() const {
+  return federatehandle_;
+}
+inline void GetFederateName::set_federatehandle(::google::protobuf::uint32 value) {
+  set_has_federatehandle();
+  federatehandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// GetUpdateRateValueForAttribute
+
+// required uint64 requestId = 1;
+inline bool GetUpdateRateValueForAttribute::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void GetUpdateRateValueForAttribute::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void GetUpdateRateValueForAttribute::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void GetUpdateRateValueForAttribute::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 GetUpdateRateValueForAttribute::requestid() const {
+  return requestid_;
+}
+inline void GetUpdateRateValueForAttribute::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+inline bool GetUpdateRateValueForAttribute::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void GetUpdateRateValueForAttribute::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void GetUpdateRateValueForAttribute::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void GetUpdateRateValueForAttribute::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& GetUpdateRateValueForAttribute::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* GetUpdateRateValueForAttribute::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* GetUpdateRateValueForAttribute::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void GetUpdateRateValueForAttribute::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// required uint32 attributeHandle = 3;
+inline bool GetUpdateRateValueForAttribute::has_attributehandle() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void GetUpdateRateValueForAttribute::set_has_attributehandle() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void GetUpdateRateValueForAttribute::clear_has_attributehandle() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void GetUpdateRateValueForAttribute::clear_attributehandle() {
+  attributehandle_ = 0u;
+  clear_has_attributehandle();
+}
+inline ::google::protobuf::uint32 GetUpdateRateValueForAttribute::attributehandle() const {
+  return attributehandle_;
+}
+inline void GetUpdateRateValueForAttribute::set_attributehandle(::google::protobuf::uint32 value) {
+  set_has_attributehandle();
+  attributehandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// QueryInteractionTransportationType
+
+// required uint32 interactionClassHandle = 1;
+inline bool QueryInteractionTransportationType::has_interactionclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void QueryInteractionTransportationType::set_has_interactionclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void QueryInteractionTransportationType::clear_has_interactionclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void QueryInteractionTransportationType::clear_interactionclasshandle() {
+  interactionclasshandle_ = 0u;
+  clear_has_interactionclasshandle();
+}
+inline ::google::protobuf::uint32 QueryInteractionTransportationType::interactionclasshandle() const {
+  return interactionclasshandle_;
+}
+inline void QueryInteractionTransportationType::set_interactionclasshandle(::google::protobuf::uint32 value) {
+  set_has_interactionclasshandle();
+  interactionclasshandle_ = value;
+}
+
+// required uint32 federateHandle = 2;
+inline bool QueryInteractionTransportationType::has_federatehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void QueryInteractionTransportationType::set_has_federatehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void QueryInteractionTransportationType::clear_has_federatehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void QueryInteractionTransportationType::clear_federatehandle() {
+  federatehandle_ = 0u;
+  clear_has_federatehandle();
+}
+inline ::google::protobuf::uint32 QueryInteractionTransportationType::federatehandle() const {
+  return federatehandle_;
+}
+inline void QueryInteractionTransportationType::set_federatehandle(::google::protobuf::uint32 value) {
+  set_has_federatehandle();
+  federatehandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// UnconditionalAttributeOwnershipDivestiture
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool UnconditionalAttributeOwnershipDivestiture::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void UnconditionalAttributeOwnershipDivestiture::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void UnconditionalAttributeOwnershipDivestiture::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void UnconditionalAttributeOwnershipDivestiture::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& UnconditionalAttributeOwnershipDivestiture::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* UnconditionalAttributeOwnershipDivestiture::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* UnconditionalAttributeOwnershipDivestiture::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void UnconditionalAttributeOwnershipDivestiture::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int UnconditionalAttributeOwnershipDivestiture::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void UnconditionalAttributeOwnershipDivestiture::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 UnconditionalAttributeOwnershipDivestiture::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void UnconditionalAttributeOwnershipDivestiture::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void UnconditionalAttributeOwnershipDivestiture::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+UnconditionalAttributeOwnershipDivestiture::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+UnconditionalAttributeOwnershipDivestiture::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// NegotiatedAttributeOwnershipDivestiture
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool NegotiatedAttributeOwnershipDivestiture::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void NegotiatedAttributeOwnershipDivestiture::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void NegotiatedAttributeOwnershipDivestiture::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void NegotiatedAttributeOwnershipDivestiture::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& NegotiatedAttributeOwnershipDivestiture::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* NegotiatedAttributeOwnershipDivestiture::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* NegotiatedAttributeOwnershipDivestiture::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void NegotiatedAttributeOwnershipDivestiture::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int NegotiatedAttributeOwnershipDivestiture::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void NegotiatedAttributeOwnershipDivestiture::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 NegotiatedAttributeOwnershipDivestiture::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void NegotiatedAttributeOwnershipDivestiture::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void NegotiatedAttributeOwnershipDivestiture::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+NegotiatedAttributeOwnershipDivestiture::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+NegotiatedAttributeOwnershipDivestiture::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// optional bytes tag = 3;
+inline bool NegotiatedAttributeOwnershipDivestiture::has_tag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void NegotiatedAttributeOwnershipDivestiture::set_has_tag() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void NegotiatedAttributeOwnershipDivestiture::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void NegotiatedAttributeOwnershipDivestiture::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& NegotiatedAttributeOwnershipDivestiture::tag() const {
+  return *tag_;
+}
+inline void NegotiatedAttributeOwnershipDivestiture::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void NegotiatedAttributeOwnershipDivestiture::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void NegotiatedAttributeOwnershipDivestiture::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* NegotiatedAttributeOwnershipDivestiture::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* NegotiatedAttributeOwnershipDivestiture::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void NegotiatedAttributeOwnershipDivestiture::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// ConfirmDivestiture
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool ConfirmDivestiture::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ConfirmDivestiture::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ConfirmDivestiture::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ConfirmDivestiture::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& ConfirmDivestiture::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* ConfirmDivestiture::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* ConfirmDivestiture::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void ConfirmDivestiture::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int ConfirmDivestiture::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void ConfirmDivestiture::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 ConfirmDivestiture::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void ConfirmDivestiture::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void ConfirmDivestiture::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+ConfirmDivestiture::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+ConfirmDivestiture::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// optional bytes tag = 3;
+inline bool ConfirmDivestiture::has_tag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void ConfirmDivestiture::set_has_tag() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void ConfirmDivestiture::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void ConfirmDivestiture::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& ConfirmDivestiture::tag() const {
+  return *tag_;
+}
+inline void ConfirmDivestiture::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void ConfirmDivestiture::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void ConfirmDivestiture::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ConfirmDivestiture::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* ConfirmDivestiture::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void ConfirmDivestiture::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// AttributeOwnershipAcquisition
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool AttributeOwnershipAcquisition::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AttributeOwnershipAcquisition::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AttributeOwnershipAcquisition::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AttributeOwnershipAcquisition::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& AttributeOwnershipAcquisition::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributeOwnershipAcquisition::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributeOwnershipAcquisition::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void AttributeOwnershipAcquisition::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int AttributeOwnershipAcquisition::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void AttributeOwnershipAcquisition::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 AttributeOwnershipAcquisition::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void AttributeOwnershipAcquisition::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void AttributeOwnershipAcquisition::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+AttributeOwnershipAcquisition::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+AttributeOwnershipAcquisition::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// optional bytes tag = 3;
+inline bool AttributeOwnershipAcquisition::has_tag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void AttributeOwnershipAcquisition::set_has_tag() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void AttributeOwnershipAcquisition::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void AttributeOwnershipAcquisition::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& AttributeOwnershipAcquisition::tag() const {
+  return *tag_;
+}
+inline void AttributeOwnershipAcquisition::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void AttributeOwnershipAcquisition::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void AttributeOwnershipAcquisition::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* AttributeOwnershipAcquisition::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* AttributeOwnershipAcquisition::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void AttributeOwnershipAcquisition::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// AttributeOwnershipAcquisitionIfAvailable
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool AttributeOwnershipAcquisitionIfAvailable::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AttributeOwnershipAcquisitionIfAvailable::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AttributeOwnershipAcquisitionIfAvailable::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AttributeOwnershipAcquisitionIfAvailable::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& AttributeOwnershipAcquisitionIfAvailable::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributeOwnershipAcquisitionIfAvailable::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributeOwnershipAcquisitionIfAvailable::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void AttributeOwnershipAcquisitionIfAvailable::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int AttributeOwnershipAcquisitionIfAvailable::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void AttributeOwnershipAcquisitionIfAvailable::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 AttributeOwnershipAcquisitionIfAvailable::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void AttributeOwnershipAcquisitionIfAvailable::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void AttributeOwnershipAcquisitionIfAvailable::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+AttributeOwnershipAcquisitionIfAvailable::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+AttributeOwnershipAcquisitionIfAvailable::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// AttributeOwnershipDivestitureIfWanted
+
+// required uint64 requestId = 1;
+inline bool AttributeOwnershipDivestitureIfWanted::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AttributeOwnershipDivestitureIfWanted::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AttributeOwnershipDivestitureIfWanted::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AttributeOwnershipDivestitureIfWanted::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 AttributeOwnershipDivestitureIfWanted::requestid() const {
+  return requestid_;
+}
+inline void AttributeOwnershipDivestitureIfWanted::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+inline bool AttributeOwnershipDivestitureIfWanted::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void AttributeOwnershipDivestitureIfWanted::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void AttributeOwnershipDivestitureIfWanted::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void AttributeOwnershipDivestitureIfWanted::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& AttributeOwnershipDivestitureIfWanted::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributeOwnershipDivestitureIfWanted::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AttributeOwnershipDivestitureIfWanted::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void AttributeOwnershipDivestitureIfWanted::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 3;
+inline int AttributeOwnershipDivestitureIfWanted::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void AttributeOwnershipDivestitureIfWanted::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 AttributeOwnershipDivestitureIfWanted::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void AttributeOwnershipDivestitureIfWanted::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void AttributeOwnershipDivestitureIfWanted::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+AttributeOwnershipDivestitureIfWanted::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+AttributeOwnershipDivestitureIfWanted::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// optional bytes tag = 4;
+inline bool AttributeOwnershipDivestitureIfWanted::has_tag() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void AttributeOwnershipDivestitureIfWanted::set_has_tag() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void AttributeOwnershipDivestitureIfWanted::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void AttributeOwnershipDivestitureIfWanted::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& AttributeOwnershipDivestitureIfWanted::tag() const {
+  return *tag_;
+}
+inline void AttributeOwnershipDivestitureIfWanted::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void AttributeOwnershipDivestitureIfWanted::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void AttributeOwnershipDivestitureIfWanted::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* AttributeOwnershipDivestitureIfWanted::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* AttributeOwnershipDivestitureIfWanted::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void AttributeOwnershipDivestitureIfWanted::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// CancelNegotiatedAttributeOwnershipDivestiture
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool CancelNegotiatedAttributeOwnershipDivestiture::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void CancelNegotiatedAttributeOwnershipDivestiture::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void CancelNegotiatedAttributeOwnershipDivestiture::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void CancelNegotiatedAttributeOwnershipDivestiture::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& CancelNegotiatedAttributeOwnershipDivestiture::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* CancelNegotiatedAttributeOwnershipDivestiture::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* CancelNegotiatedAttributeOwnershipDivestiture::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void CancelNegotiatedAttributeOwnershipDivestiture::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int CancelNegotiatedAttributeOwnershipDivestiture::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void CancelNegotiatedAttributeOwnershipDivestiture::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 CancelNegotiatedAttributeOwnershipDivestiture::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void CancelNegotiatedAttributeOwnershipDivestiture::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void CancelNegotiatedAttributeOwnershipDivestiture::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+CancelNegotiatedAttributeOwnershipDivestiture::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+CancelNegotiatedAttributeOwnershipDivestiture::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// CancelAttributeOwnershipAcquisition
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool CancelAttributeOwnershipAcquisition::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void CancelAttributeOwnershipAcquisition::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void CancelAttributeOwnershipAcquisition::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void CancelAttributeOwnershipAcquisition::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& CancelAttributeOwnershipAcquisition::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* CancelAttributeOwnershipAcquisition::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* CancelAttributeOwnershipAcquisition::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void CancelAttributeOwnershipAcquisition::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int CancelAttributeOwnershipAcquisition::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void CancelAttributeOwnershipAcquisition::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 CancelAttributeOwnershipAcquisition::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void CancelAttributeOwnershipAcquisition::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void CancelAttributeOwnershipAcquisition::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+CancelAttributeOwnershipAcquisition::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+CancelAttributeOwnershipAcquisition::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// QueryAttributeOwnership
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool QueryAttributeOwnership::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void QueryAttributeOwnership::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void QueryAttributeOwnership::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void QueryAttributeOwnership::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& QueryAttributeOwnership::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* QueryAttributeOwnership::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* QueryAttributeOwnership::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void QueryAttributeOwnership::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// required uint32 attributeHandle = 2;
+inline bool QueryAttributeOwnership::has_attributehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void QueryAttributeOwnership::set_has_attributehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void QueryAttributeOwnership::clear_has_attributehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void QueryAttributeOwnership::clear_attributehandle() {
+  attributehandle_ = 0u;
+  clear_has_attributehandle();
+}
+inline ::google::protobuf::uint32 QueryAttributeOwnership::attributehandle() const {
+  return attributehandle_;
+}
+inline void QueryAttributeOwnership::set_attributehandle(::google::protobuf::uint32 value) {
+  set_has_attributehandle();
+  attributehandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// EnableTimeRegulation
+
+// required bytes lookahead = 1;
+inline bool EnableTimeRegulation::has_lookahead() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void EnableTimeRegulation::set_has_lookahead() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void EnableTimeRegulation::clear_has_lookahead() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void EnableTimeRegulation::clear_lookahead() {
+  if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+    lookahead_->clear();
+  }
+  clear_has_lookahead();
+}
+inline const ::std::string& EnableTimeRegulation::lookahead() const {
+  return *lookahead_;
+}
+inline void EnableTimeRegulation::set_lookahead(const ::std::string& value) {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  lookahead_->assign(value);
+}
+inline void EnableTimeRegulation::set_lookahead(const char* value) {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  lookahead_->assign(value);
+}
+inline void EnableTimeRegulation::set_lookahead(const void* value, size_t size) {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  lookahead_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* EnableTimeRegulation::mutable_lookahead() {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  return lookahead_;
+}
+inline ::std::string* EnableTimeRegulation::release_lookahead() {
+  clear_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = lookahead_;
+    lookahead_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void EnableTimeRegulation::set_allocated_lookahead(::std::string* lookahead) {
+  if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+    delete lookahead_;
+  }
+  if (lookahead) {
+    set_has_lookahead();
+    lookahead_ = lookahead;
+  } else {
+    clear_has_lookahead();
+    lookahead_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// DisableTimeRegulation
+
+// -------------------------------------------------------------------
+
+// EnableTimeConstrained
+
+// -------------------------------------------------------------------
+
+// DisableTimeConstrained
+
+// -------------------------------------------------------------------
+
+// TimeAdvanceRequest
+
+// required bytes time = 1;
+inline bool TimeAdvanceRequest::has_time() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void TimeAdvanceRequest::set_has_time() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void TimeAdvanceRequest::clear_has_time() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void TimeAdvanceRequest::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& TimeAdvanceRequest::time() const {
+  return *time_;
+}
+inline void TimeAdvanceRequest::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void TimeAdvanceRequest::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void TimeAdvanceRequest::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* TimeAdvanceRequest::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* TimeAdvanceRequest::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void TimeAdvanceRequest::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// TimeAdvanceRequestAvailable
+
+// required bytes time = 1;
+inline bool TimeAdvanceRequestAvailable::has_time() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void TimeAdvanceRequestAvailable::set_has_time() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void TimeAdvanceRequestAvailable::clear_has_time() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void TimeAdvanceRequestAvailable::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& TimeAdvanceRequestAvailable::time() const {
+  return *time_;
+}
+inline void TimeAdvanceRequestAvailable::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void TimeAdvanceRequestAvailable::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void TimeAdvanceRequestAvailable::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* TimeAdvanceRequestAvailable::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* TimeAdvanceRequestAvailable::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void TimeAdvanceRequestAvailable::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// NextMessageRequest
+
+// required bytes time = 1;
+inline bool NextMessageRequest::has_time() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void NextMessageRequest::set_has_time() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void NextMessageRequest::clear_has_time() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void NextMessageRequest::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& NextMessageRequest::time() const {
+  return *time_;
+}
+inline void NextMessageRequest::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void NextMessageRequest::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void NextMessageRequest::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* NextMessageRequest::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* NextMessageRequest::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void NextMessageRequest::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// NextMessageRequestAvailable
+
+// required bytes time = 1;
+inline bool NextMessageRequestAvailable::has_time() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void NextMessageRequestAvailable::set_has_time() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void NextMessageRequestAvailable::clear_has_time() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void NextMessageRequestAvailable::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& NextMessageRequestAvailable::time() const {
+  return *time_;
+}
+inline void NextMessageRequestAvailable::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void NextMessageRequestAvailable::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void NextMessageRequestAvailable::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* NextMessageRequestAvailable::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* NextMessageRequestAvailable::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void NextMessageRequestAvailable::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// FlushQueueRequest
+
+// required bytes time = 1;
+inline bool FlushQueueRequest::has_time() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FlushQueueRequest::set_has_time() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FlushQueueRequest::clear_has_time() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FlushQueueRequest::clear_time() {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    time_->clear();
+  }
+  clear_has_time();
+}
+inline const ::std::string& FlushQueueRequest::time() const {
+  return *time_;
+}
+inline void FlushQueueRequest::set_time(const ::std::string& value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void FlushQueueRequest::set_time(const char* value) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(value);
+}
+inline void FlushQueueRequest::set_time(const void* value, size_t size) {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  time_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FlushQueueRequest::mutable_time() {
+  set_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    time_ = new ::std::string;
+  }
+  return time_;
+}
+inline ::std::string* FlushQueueRequest::release_time() {
+  clear_has_time();
+  if (time_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = time_;
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FlushQueueRequest::set_allocated_time(::std::string* time) {
+  if (time_ != &::google::protobuf::internal::kEmptyString) {
+    delete time_;
+  }
+  if (time) {
+    set_has_time();
+    time_ = time;
+  } else {
+    clear_has_time();
+    time_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// QueryGALT
+
+// required uint64 requestId = 1;
+inline bool QueryGALT::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void QueryGALT::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void QueryGALT::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void QueryGALT::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 QueryGALT::requestid() const {
+  return requestid_;
+}
+inline void QueryGALT::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// QueryLITS
+
+// required uint64 requestId = 1;
+inline bool QueryLITS::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void QueryLITS::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void QueryLITS::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void QueryLITS::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 QueryLITS::requestid() const {
+  return requestid_;
+}
+inline void QueryLITS::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// ModifyLookahead
+
+// required bytes lookahead = 1;
+inline bool ModifyLookahead::has_lookahead() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ModifyLookahead::set_has_lookahead() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ModifyLookahead::clear_has_lookahead() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ModifyLookahead::clear_lookahead() {
+  if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+    lookahead_->clear();
+  }
+  clear_has_lookahead();
+}
+inline const ::std::string& ModifyLookahead::lookahead() const {
+  return *lookahead_;
+}
+inline void ModifyLookahead::set_lookahead(const ::std::string& value) {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  lookahead_->assign(value);
+}
+inline void ModifyLookahead::set_lookahead(const char* value) {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  lookahead_->assign(value);
+}
+inline void ModifyLookahead::set_lookahead(const void* value, size_t size) {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  lookahead_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ModifyLookahead::mutable_lookahead() {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  return lookahead_;
+}
+inline ::std::string* ModifyLookahead::release_lookahead() {
+  clear_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = lookahead_;
+    lookahead_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void ModifyLookahead::set_allocated_lookahead(::std::string* lookahead) {
+  if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+    delete lookahead_;
+  }
+  if (lookahead) {
+    set_has_lookahead();
+    lookahead_ = lookahead;
+  } else {
+    clear_has_lookahead();
+    lookahead_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// Retract
+
+// required uint64 requestId = 1;
+inline bool Retract::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void Retract::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void Retract::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void Retract::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 Retract::requestid() const {
+  return requestid_;
+}
+inline void Retract::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 2;
+inline bool Retract::has_messageretractionhandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void Retract::set_has_messageretractionhandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void Retract::clear_has_messageretractionhandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void Retract::clear_messageretractionhandle() {
+  if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+  clear_has_messageretractionhandle();
+}
+inline const ::ohla::rti::proto::MessageRetractionHandle& Retract::messageretractionhandle() const {
+  return messageretractionhandle_ != NULL ? *messageretractionhandle_ : *default_instance_->messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* Retract::mutable_messageretractionhandle() {
+  set_has_messageretractionhandle();
+  if (messageretractionhandle_ == NULL) messageretractionhandle_ = new ::ohla::rti::proto::MessageRetractionHandle;
+  return messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* Retract::release_messageretractionhandle() {
+  clear_has_messageretractionhandle();
+  ::ohla::rti::proto::MessageRetractionHandle* temp = messageretractionhandle_;
+  messageretractionhandle_ = NULL;
+  return temp;
+}
+inline void Retract::set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle) {
+  delete messageretractionhandle_;
+  messageretractionhandle_ = messageretractionhandle;
+  if (messageretractionhandle) {
+    set_has_messageretractionhandle();
+  } else {
+    clear_has_messageretractionhandle();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// CreateRegion
+
+// required .ohla.rti.proto.RegionHandle regionHandle = 1;
+inline bool CreateRegion::has_regionhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void CreateRegion::set_has_regionhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void CreateRegion::clear_has_regionhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void CreateRegion::clear_regionhandle() {
+  if (regionhandle_ != NULL) regionhandle_->::ohla::rti::proto::RegionHandle::Clear();
+  clear_has_regionhandle();
+}
+inline const ::ohla::rti::proto::RegionHandle& CreateRegion::regionhandle() const {
+  return regionhandle_ != NULL ? *regionhandle_ : *default_instance_->regionhandle_;
+}
+inline ::ohla::rti::proto::RegionHandle* CreateRegion::mutable_regionhandle() {
+  set_has_regionhandle();
+  if (regionhandle_ == NULL) regionhandle_ = new ::ohla::rti::proto::RegionHandle;
+  return regionhandle_;
+}
+inline ::ohla::rti::proto::RegionHandle* CreateRegion::release_regionhandle() {
+  clear_has_regionhandle();
+  ::ohla::rti::proto::RegionHandle* temp = regionhandle_;
+  regionhandle_ = NULL;
+  return temp;
+}
+inline void CreateRegion::set_allocated_regionhandle(::ohla::rti::proto::RegionHandle* regionhandle) {
+  delete regionhandle_;
+  regionhandle_ = regionhandle;
+  if (regionhandle) {
+    set_has_regionhandle();
+  } else {
+    clear_has_regionhandle();
+  }
+}
+
+// repeated uint32 dimensionHandles = 2;
+inline int CreateRegion::dimensionhandles_size() const {
+  return dimensionhandles_.size();
+}
+inline void CreateRegion::clear_dimensionhandles() {
+  dimensionhandles_.Clear();
+}
+inline ::google::protobuf::uint32 CreateRegion::dimensionhandles(int index) const {
+  return dimensionhandles_.Get(index);
+}
+inline void CreateRegion::set_dimensionhandles(int index, ::google::protobuf::uint32 value) {
+  dimensionhandles_.Set(index, value);
+}
+inline void CreateRegion::add_dimensionhandles(::google::protobuf::uint32 value) {
+  dimensionhandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+CreateRegion::dimensionhandles() const {
+  return dimensionhandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+CreateRegion::mutable_dimensionhandles() {
+  return &dimensionhandles_;
+}
+
+// -------------------------------------------------------------------
+
+// CommitRegionModifications_RegionModification
+
+// required .ohla.rti.proto.RegionHandle regionHandle = 1;
+inline bool CommitRegionModifications_RegionModification::has_regionhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void CommitRegionModifications_RegionModification::set_has_regionhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void CommitRegionModifications_RegionModification::clear_has_regionhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void CommitRegionModifications_RegionModification::clear_regionhandle() {
+  if (regionhandle_ != NULL) regionhandle_->::ohla::rti::proto::RegionHandle::Clear();
+  clear_has_regionhandle();
+}
+inline const ::ohla::rti::proto::RegionHandle& CommitRegionModifications_RegionModification::regionhandle() const {
+  return regionhandle_ != NULL ? *regionhandle_ : *default_instance_->regionhandle_;
+}
+inline ::ohla::rti::proto::RegionHandle* CommitRegionModifications_RegionModification::mutable_regionhandle() {
+  set_has_regionhandle();
+  if (regionhandle_ == NULL) regionhandle_ = new ::ohla::rti::proto::RegionHandle;
+  return regionhandle_;
+}
+inline ::ohla::rti::proto::RegionHandle* CommitRegionModifications_RegionModification::release_regionhandle() {
+  clear_has_regionhandle();
+  ::ohla::rti::proto::RegionHandle* temp = regionhandle_;
+  regionhandle_ = NULL;
+  return temp;
+}
+inline void CommitRegionModifications_RegionModification::set_allocated_regionhandle(::ohla::rti::proto::RegionHandle* regionhandle) {
+  delete regionhandle_;
+  regionhandle_ = regionhandle;
+  if (regionhandle) {
+    set_has_regionhandle();
+  } else {
+    clear_has_regionhandle();
+  }
+}
+
+// repeated .ohla.rti.proto.DimensionRangeBound dimensionRangeBounds = 2;
+inline int CommitRegionModifications_RegionModification::dimensionrangebounds_size() const {
+  return dimensionrangebounds_.size();
+}
+inline void CommitRegionModifications_RegionModification::clear_dimensionrangebounds() {
+  dimensionrangebounds_.Clear();
+}
+inline const ::ohla::rti::proto::DimensionRangeBound& CommitRegionModifications_RegionModification::dimensionrangebounds(int index) const {
+  return dimensionrangebounds_.Get(index);
+}
+inline ::ohla::rti::proto::DimensionRangeBound* CommitRegionModifications_RegionModification::mutable_dimensionrangebounds(int index) {
+  return dimensionrangebounds_.Mutable(index);
+}
+inline ::ohla::rti::proto::DimensionRangeBound* CommitRegionModifications_RegionModification::add_dimensionrangebounds() {
+  return dimensionrangebounds_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >&
+CommitRegionModifications_RegionModification::dimensionrangebounds() const {
+  return dimensionrangebounds_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >*
+CommitRegionModifications_RegionModification::mutable_dimensionrangebounds() {
+  return &dimensionrangebounds_;
+}
+
+// -------------------------------------------------------------------
+
+// CommitRegionModifications
+
+// repeated .ohla.rti.messages.proto.CommitRegionModifications.RegionModification regionModifications = 1;
+inline int CommitRegionModifications::regionmodifications_size() const {
+  return regionmodifications_.size();
+}
+inline void CommitRegionModifications::clear_regionmodifications() {
+  regionmodifications_.Clear();
+}
+inline const ::ohla::rti::messages::proto::CommitRegionModifications_RegionModification& CommitRegionModifications::regionmodifications(int index) const {
+  return regionmodifications_.Get(index);
+}
+inline ::ohla::rti::messages::proto::CommitRegionModifications_RegionModification* CommitRegionModifications::mutable_regionmodifications(int index) {
+  return regionmodifications_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::CommitRegionModifications_RegionModification* CommitRegionModifications::add_regionmodifications() {
+  return regionmodifications_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::CommitRegionModifications_RegionModification >&
+CommitRegionModifications::regionmodifications() const {
+  return regionmodifications_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::CommitRegionModifications_RegionModification >*
+CommitRegionModifications::mutable_regionmodifications() {
+  return &regionmodifications_;
+}
+
+// -------------------------------------------------------------------
+
+// DeleteRegion
+
+// required .ohla.rti.proto.RegionHandle regionHandle = 1;
+inline bool DeleteRegion::has_regionhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void DeleteRegion::set_has_regionhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void DeleteRegion::clear_has_regionhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void DeleteRegion::clear_regionhandle() {
+  if (regionhandle_ != NULL) regionhandle_->::ohla::rti::proto::RegionHandle::Clear();
+  clear_has_regionhandle();
+}
+inline const ::ohla::rti::proto::RegionHandle& DeleteRegion::regionhandle() const {
+  return regionhandle_ != NULL ? *regionhandle_ : *default_instance_->regionhandle_;
+}
+inline ::ohla::rti::proto::RegionHandle* DeleteRegion::mutable_regionhandle() {
+  set_has_regionhandle();
+  if (regionhandle_ == NULL) regionhandle_ = new ::ohla::rti::proto::RegionHandle;
+  return regionhandle_;
+}
+inline ::ohla::rti::proto::RegionHandle* DeleteRegion::release_regionhandle() {
+  clear_has_regionhandle();
+  ::ohla::rti::proto::RegionHandle* temp = regionhandle_;
+  regionhandle_ = NULL;
+  return temp;
+}
+inline void DeleteRegion::set_allocated_regionhandle(::ohla::rti::proto::RegionHandle* regionhandle) {
+  delete regionhandle_;
+  regionhandle_ = regionhandle;
+  if (regionhandle) {
+    set_has_regionhandle();
+  } else {
+    clear_has_regionhandle();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// AssociateRegionsForUpdates
+
+// required uint64 requestId = 1;
+inline bool AssociateRegionsForUpdates::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AssociateRegionsForUpdates::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AssociateRegionsForUpdates::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AssociateRegionsForUpdates::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 AssociateRegionsForUpdates::requestid() const {
+  return requestid_;
+}
+inline void AssociateRegionsForUpdates::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+inline bool AssociateRegionsForUpdates::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void AssociateRegionsForUpdates::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void AssociateRegionsForUpdates::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void AssociateRegionsForUpdates::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& AssociateRegionsForUpdates::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AssociateRegionsForUpdates::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* AssociateRegionsForUpdates::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void AssociateRegionsForUpdates::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 3;
+inline int AssociateRegionsForUpdates::attributeregionassociations_size() const {
+  return attributeregionassociations_.size();
+}
+inline void AssociateRegionsForUpdates::clear_attributeregionassociations() {
+  attributeregionassociations_.Clear();
+}
+inline const ::ohla::rti::messages::proto::AttributeRegionAssociation& AssociateRegionsForUpdates::attributeregionassociations(int index) const {
+  return attributeregionassociations_.Get(index);
+}
+inline ::ohla::rti::messages::proto::AttributeRegionAssociation* AssociateRegionsForUpdates::mutable_attributeregionassociations(int index) {
+  return attributeregionassociations_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::AttributeRegionAssociation* AssociateRegionsForUpdates::add_attributeregionassociations() {
+  return attributeregionassociations_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >&
+AssociateRegionsForUpdates::attributeregionassociations() const {
+  return attributeregionassociations_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >*
+AssociateRegionsForUpdates::mutable_attributeregionassociations() {
+  return &attributeregionassociations_;
+}
+
+// -------------------------------------------------------------------
+
+// UnassociateRegionsForUpdates
+
+// required uint64 requestId = 1;
+inline bool UnassociateRegionsForUpdates::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void UnassociateRegionsForUpdates::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void UnassociateRegionsForUpdates::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void UnassociateRegionsForUpdates::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 UnassociateRegionsForUpdates::requestid() const {
+  return requestid_;
+}
+inline void UnassociateRegionsForUpdates::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+inline bool UnassociateRegionsForUpdates::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void UnassociateRegionsForUpdates::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void UnassociateRegionsForUpdates::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void UnassociateRegionsForUpdates::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& UnassociateRegionsForUpdates::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* UnassociateRegionsForUpdates::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* UnassociateRegionsForUpdates::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void UnassociateRegionsForUpdates::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 3;
+inline int UnassociateRegionsForUpdates::attributeregionassociations_size() const {
+  return attributeregionassociations_.size();
+}
+inline void UnassociateRegionsForUpdates::clear_attributeregionassociations() {
+  attributeregionassociations_.Clear();
+}
+inline const ::ohla::rti::messages::proto::AttributeRegionAssociation& UnassociateRegionsForUpdates::attributeregionassociations(int index) const {
+  return attributeregionassociations_.Get(index);
+}
+inline ::ohla::rti::messages::proto::AttributeRegionAssociation* UnassociateRegionsForUpdates::mutable_attributeregionassociations(int index) {
+  return attributeregionassociations_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::AttributeRegionAssociation* UnassociateRegionsForUpdates::add_attributeregionassociations() {
+  return attributeregionassociations_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >&
+UnassociateRegionsForUpdates::attributeregionassociations() const {
+  return attributeregionassociations_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >*
+UnassociateRegionsForUpdates::mutable_attributeregionassociations() {
+  return &attributeregionassociations_;
+}
+
+// -------------------------------------------------------------------
+
+// SubscribeObjectClassAttributesWithRegions
+
+// required uint32 objectClassHandle = 1;
+inline bool SubscribeObjectClassAttributesWithRegions::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void SubscribeObjectClassAttributesWithRegions::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void SubscribeObjectClassAttributesWithRegions::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void SubscribeObjectClassAttributesWithRegions::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 SubscribeObjectClassAttributesWithRegions::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void SubscribeObjectClassAttributesWithRegions::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+inline int SubscribeObjectClassAttributesWithRegions::attributeregionassociations_size() const {
+  return attributeregionassociations_.size();
+}
+inline void SubscribeObjectClassAttributesWithRegions::clear_attributeregionassociations() {
+  attributeregionassociations_.Clear();
+}
+inline const ::ohla::rti::messages::proto::AttributeRegionAssociation& SubscribeObjectClassAttributesWithRegions::attributeregionassociations(int index) const {
+  return attributeregionassociations_.Get(index);
+}
+inline ::ohla::rti::messages::proto::AttributeRegionAssociation* SubscribeObjectClassAttributesWithRegions::mutable_attributeregionassociations(int index) {
+  return attributeregionassociations_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::AttributeRegionAssociation* SubscribeObjectClassAttributesWithRegions::add_attributeregionassociations() {
+  return attributeregionassociations_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >&
+SubscribeObjectClassAttributesWithRegions::attributeregionassociations() const {
+  return attributeregionassociations_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >*
+SubscribeObjectClassAttributesWithRegions::mutable_attributeregionassociations() {
+  return &attributeregionassociations_;
+}
+
+// required bool passive = 3;
+inline bool SubscribeObjectClassAttributesWithRegions::has_passive() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void SubscribeObjectClassAttributesWithRegions::set_has_passive() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void SubscribeObjectClassAttributesWithRegions::clear_has_passive() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void SubscribeObjectClassAttributesWithRegions::clear_passive() {
+  passive_ = false;
+  clear_has_passive();
+}
+inline bool SubscribeObjectClassAttributesWithRegions::passive() const {
+  return passive_;
+}
+inline void SubscribeObjectClassAttributesWithRegions::set_passive(bool value) {
+  set_has_passive();
+  passive_ = value;
+}
+
+// optional string updateRateDesignator = 4;
+inline bool SubscribeObjectClassAttributesWithRegions::has_updateratedesignator() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void SubscribeObjectClassAttributesWithRegions::set_has_updateratedesignator() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void SubscribeObjectClassAttributesWithRegions::clear_has_updateratedesignator() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void SubscribeObjectClassAttributesWithRegions::clear_updateratedesignator() {
+  if (updateratedesignator_ != &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_->clear();
+  }
+  clear_has_updateratedesignator();
+}
+inline const ::std::string& SubscribeObjectClassAttributesWithRegions::updateratedesignator() const {
+  return *updateratedesignator_;
+}
+inline void SubscribeObjectClassAttributesWithRegions::set_updateratedesignator(const ::std::string& value) {
+  set_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_ = new ::std::string;
+  }
+  updateratedesignator_->assign(value);
+}
+inline void SubscribeObjectClassAttributesWithRegions::set_updateratedesignator(const char* value) {
+  set_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_ = new ::std::string;
+  }
+  updateratedesignator_->assign(value);
+}
+inline void SubscribeObjectClassAttributesWithRegions::set_updateratedesignator(const char* value, size_t size) {
+  set_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_ = new ::std::string;
+  }
+  updateratedesignator_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* SubscribeObjectClassAttributesWithRegions::mutable_updateratedesignator() {
+  set_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    updateratedesignator_ = new ::std::string;
+  }
+  return updateratedesignator_;
+}
+inline ::std::string* SubscribeObjectClassAttributesWithRegions::release_updateratedesignator() {
+  clear_has_updateratedesignator();
+  if (updateratedesignator_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = updateratedesignator_;
+    updateratedesignator_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void SubscribeObjectClassAttributesWithRegions::set_allocated_updateratedesignator(::std::string* updateratedesignator) {
+  if (updateratedesignator_ != &::google::protobuf::internal::kEmptyString) {
+    delete updateratedesignator_;
+  }
+  if (updateratedesignator) {
+    set_has_updateratedesignator();
+    updateratedesignator_ = updateratedesignator;
+  } else {
+    clear_has_updateratedesignator();
+    updateratedesignator_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// UnsubscribeObjectClassAttributesWithRegions
+
+// required uint32 objectClassHandle = 1;
+inline bool UnsubscribeObjectClassAttributesWithRegions::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void UnsubscribeObjectClassAttributesWithRegions::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void UnsubscribeObjectClassAttributesWithRegions::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void UnsubscribeObjectClassAttributesWithRegions::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 UnsubscribeObjectClassAttributesWithRegions::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void UnsubscribeObjectClassAttributesWithRegions::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// repeated .ohla.rti.messages.proto.AttributeRegionAssociation attributeRegionAssociations = 2;
+inline int UnsubscribeObjectClassAttributesWithRegions::attributeregionassociations_size() const {
+  return attributeregionassociations_.size();
+}
+inline void UnsubscribeObjectClassAttributesWithRegions::clear_attributeregionassociations() {
+  attributeregionassociations_.Clear();
+}
+inline const ::ohla::rti::messages::proto::AttributeRegionAssociation& UnsubscribeObjectClassAttributesWithRegions::attributeregionassociations(int index) const {
+  return attributeregionassociations_.Get(index);
+}
+inline ::ohla::rti::messages::proto::AttributeRegionAssociation* UnsubscribeObjectClassAttributesWithRegions::mutable_attributeregionassociations(int index) {
+  return attributeregionassociations_.Mutable(index);
+}
+inline ::ohla::rti::messages::proto::AttributeRegionAssociation* UnsubscribeObjectClassAttributesWithRegions::add_attributeregionassociations() {
+  return attributeregionassociations_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >&
+UnsubscribeObjectClassAttributesWithRegions::attributeregionassociations() const {
+  return attributeregionassociations_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::messages::proto::AttributeRegionAssociation >*
+UnsubscribeObjectClassAttributesWithRegions::mutable_attributeregionassociations() {
+  return &attributeregionassociations_;
+}
+
+// -------------------------------------------------------------------
+
+// SubscribeInteractionClassWithRegions
+
+// required uint32 interactionClassHandle = 1;
+inline bool SubscribeInteractionClassWithRegions::has_interactionclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void SubscribeInteractionClassWithRegions::set_has_interactionclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void SubscribeInteractionClassWithRegions::clear_has_interactionclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void SubscribeInteractionClassWithRegions::clear_interactionclasshandle() {
+  interactionclasshandle_ = 0u;
+  clear_has_interactionclasshandle();
+}
+inline ::google::protobuf::uint32 SubscribeInteractionClassWithRegions::interactionclasshandle() const {
+  return interactionclasshandle_;
+}
+inline void SubscribeInteractionClassWithRegions::set_interactionclasshandle(::google::protobuf::uint32 value) {
+  set_has_interactionclasshandle();
+  interactionclasshandle_ = value;
+}
+
+// required bool passive = 2;
+inline bool SubscribeInteractionClassWithRegions::has_passive() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void SubscribeInteractionClassWithRegions::set_has_passive() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void SubscribeInteractionClassWithRegions::clear_has_passive() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void SubscribeInteractionClassWithRegions::clear_passive() {
+  passive_ = false;
+  clear_has_passive();
+}
+inline bool SubscribeInteractionClassWithRegions::passive() const {
+  return passive_;
+}
+inline void SubscribeInteractionClassWithRegions::set_passive(bool value) {
+  set_has_passive();
+  passive_ = value;
+}
+
+// repeated .ohla.rti.proto.RegionHandle regionHandles = 3;
+inline int SubscribeInteractionClassWithRegions::regionhandles_size() const {
+  return regionhandles_.size();
+}
+inline void SubscribeInteractionClassWithRegions::clear_regionhandles() {
+  regionhandles_.Clear();
+}
+inline const ::ohla::rti::proto::RegionHandle& SubscribeInteractionClassWithRegions::regionhandles(int index) const {
+  return regionhandles_.Get(index);
+}
+inline ::ohla::rti::proto::RegionHandle* SubscribeInteractionClassWithRegions::mutable_regionhandles(int index) {
+  return regionhandles_.Mutable(index);
+}
+inline ::ohla::rti::proto::RegionHandle* SubscribeInteractionClassWithRegions::add_regionhandles() {
+  return regionhandles_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >&
+SubscribeInteractionClassWithRegions::regionhandles() const {
+  return regionhandles_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >*
+SubscribeInteractionClassWithRegions::mutable_regionhandles() {
+  return &regionhandles_;
+}
+
+// -------------------------------------------------------------------
+
+// UnsubscribeInteractionClassWithRegions
+
+// required uint32 interactionClassHandle = 1;
+inline bool UnsubscribeInteractionClassWithRegions::has_interactionclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void UnsubscribeInteractionClassWithRegions::set_has_interactionclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void UnsubscribeInteractionClassWithRegions::clear_has_interactionclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void UnsubscribeInteractionClassWithRegions::clear_interactionclasshandle() {
+  interactionclasshandle_ = 0u;
+  clear_has_interactionclasshandle();
+}
+inline ::google::protobuf::uint32 UnsubscribeInteractionClassWithRegions::interactionclasshandle() const {
+  return interactionclasshandle_;
+}
+inline void UnsubscribeInteractionClassWithRegions::set_interactionclasshandle(::google::protobuf::uint32 value) {
+  set_has_interactionclasshandle();
+  interactionclasshandle_ = value;
+}
+
+// repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+inline int UnsubscribeInteractionClassWithRegions::regionhandles_size() const {
+  return regionhandles_.size();
+}
+inline void UnsubscribeInteractionClassWithRegions::clear_regionhandles() {
+  regionhandles_.Clear();
+}
+inline const ::ohla::rti::proto::RegionHandle& UnsubscribeInteractionClassWithRegions::regionhandles(int index) const {
+  return regionhandles_.Get(index);
+}
+inline ::ohla::rti::proto::RegionHandle* UnsubscribeInteractionClassWithRegions::mutable_regionhandles(int index) {
+  return regionhandles_.Mutable(index);
+}
+inline ::ohla::rti::proto::RegionHandle* UnsubscribeInteractionClassWithRegions::add_regionhandles() {
+  return regionhandles_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >&
+UnsubscribeInteractionClassWithRegions::regionhandles() const {
+  return regionhandles_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >*
+UnsubscribeInteractionClassWithRegions::mutable_regionhandles() {
+  return &regionhandles_;
+}
+
+// -------------------------------------------------------------------
+
+// QueryFederationSaveStatus
+
+// -------------------------------------------------------------------
+
+// QueryFederationRestoreStatus
+
+
+// @@protoc_insertion_point(namespace_scope)
+
+}  // namespace proto
+}  // namespace messages
+}  // namespace rti
+}  // namespace ohla
+
+#ifndef SWIG
+namespace google {
+namespace protobuf {
+
+
+}  // namespace google
+}  // namespace protobuf
+#endif  // SWIG
+
+// @@protoc_insertion_point(global_scope)
+
+#endif  // PROTOBUF_FederationExecutionMessageProtos_2eproto__INCLUDED
@@ -0,0 +1,12343 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: FederationExecutionSaveProtos.proto
+
+#define INTERNAL_SUPPRESS_PROTOBUF_FIELD_DEPRECATION
+#include "FederationExecutionSaveProtos.pb.h"
+
+#include <algorithm>
+
+#include <google/protobuf/stubs/common.h>
+#include <google/protobuf/stubs/once.h>
+#include <google/protobuf/io/coded_stream.h>
+#include <google/protobuf/wire_format_lite_inl.h>
+#include <google/protobuf/descriptor.h>
+#include <google/protobuf/generated_message_reflection.h>
+#include <google/protobuf/reflection_ops.h>
+#include <google/protobuf/wire_format.h>
+// @@protoc_insertion_point(includes)
+
+namespace ohla {
+namespace rti {
+namespace proto {
+
+namespace {
+
+const ::google::protobuf::Descriptor* FederationExecutionSaveHeader_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationExecutionSaveHeader_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateSaveHeader_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateSaveHeader_reflection_ = NULL;
+const ::google::protobuf::Descriptor* HLA13RTIAmbassadorState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  HLA13RTIAmbassadorState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* HLA13RTIAmbassadorState_ObjectInstanceHandleMapping_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  HLA13RTIAmbassadorState_ObjectInstanceHandleMapping_reflection_ = NULL;
+const ::google::protobuf::Descriptor* HLA13RTIAmbassadorState_HLA13RegionState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  HLA13RTIAmbassadorState_HLA13RegionState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateState_FederateSynchonizationPointState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateState_FederateSynchonizationPointState_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* FederateState_FederateSynchonizationPointState_State_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* FederateState_FederateObjectManagerState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateState_FederateObjectManagerState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateState_FederateObjectManagerState_FederateObjectInstanceState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateState_FederateRegionManagerState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateState_FederateRegionManagerState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateState_FederateRegionManagerState_FederateRegionState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateState_FederateRegionManagerState_FederateRegionState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateState_FederateMessageRetractionManagerState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateState_FederateMessageRetractionManagerState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateState_FederateMessageRetractionManagerState_MessageRetraction_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateState_FederateMessageRetractionManagerState_MessageRetraction_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateState_FederateTimeManagerState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateState_FederateTimeManagerState_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* FederateState_FederateTimeManagerState_TemporalState_descriptor_ = NULL;
+const ::google::protobuf::EnumDescriptor* FederateState_FederateTimeManagerState_TimeRegulatingState_descriptor_ = NULL;
+const ::google::protobuf::EnumDescriptor* FederateState_FederateTimeManagerState_TimeConstrainedState_descriptor_ = NULL;
+const ::google::protobuf::Descriptor* TimeStampOrderedMessageQueueState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  TimeStampOrderedMessageQueueState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* TimeStampOrderedMessageQueueState_TimeStampOrderedMessage_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  TimeStampOrderedMessageQueueState_TimeStampOrderedMessage_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateProxyState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateProxyState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationExecutionState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationExecutionState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionSynchonizationPointState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationExecutionState_FederationExecutionSynchonizationPointState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionObjectManagerState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationExecutionState_FederationExecutionObjectManagerState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionRegionManagerState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationExecutionState_FederationExecutionRegionManagerState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionTimeManagerState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederationExecutionState_FederationExecutionTimeManagerState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* SavedFederationExecutionMessage_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  SavedFederationExecutionMessage_reflection_ = NULL;
+
+}  // namespace
+
+
+void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto() {
+  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  const ::google::protobuf::FileDescriptor* file =
+    ::google::protobuf::DescriptorPool::generated_pool()->FindFileByName(
+      "FederationExecutionSaveProtos.proto");
+  GOOGLE_CHECK(file != NULL);
+  FederationExecutionSaveHeader_descriptor_ = file->message_type(0);
+  static const int FederationExecutionSaveHeader_offsets_[6] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionSaveHeader, label_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionSaveHeader, federationexecutionname_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionSaveHeader, federatecount_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionSaveHeader, savetime_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionSaveHeader, fdd_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionSaveHeader, realtime_),
+  };
+  FederationExecutionSaveHeader_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationExecutionSaveHeader_descriptor_,
+      FederationExecutionSaveHeader::default_instance_,
+      FederationExecutionSaveHeader_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionSaveHeader, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionSaveHeader, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationExecutionSaveHeader));
+  FederateSaveHeader_descriptor_ = file->message_type(1);
+  static const int FederateSaveHeader_offsets_[5] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveHeader, federatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveHeader, federatename_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveHeader, federatetype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveHeader, federatestatelength_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveHeader, federateproxystatelength_),
+  };
+  FederateSaveHeader_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateSaveHeader_descriptor_,
+      FederateSaveHeader::default_instance_,
+      FederateSaveHeader_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveHeader, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateSaveHeader, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateSaveHeader));
+  HLA13RTIAmbassadorState_descriptor_ = file->message_type(2);
+  static const int HLA13RTIAmbassadorState_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState, nextobjectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState, nextregiontoken_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState, objectinstancehandlemappingcount_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState, regioncount_),
+  };
+  HLA13RTIAmbassadorState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      HLA13RTIAmbassadorState_descriptor_,
+      HLA13RTIAmbassadorState::default_instance_,
+      HLA13RTIAmbassadorState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(HLA13RTIAmbassadorState));
+  HLA13RTIAmbassadorState_ObjectInstanceHandleMapping_descriptor_ = HLA13RTIAmbassadorState_descriptor_->nested_type(0);
+  static const int HLA13RTIAmbassadorState_ObjectInstanceHandleMapping_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_ObjectInstanceHandleMapping, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_ObjectInstanceHandleMapping, mapping_),
+  };
+  HLA13RTIAmbassadorState_ObjectInstanceHandleMapping_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      HLA13RTIAmbassadorState_ObjectInstanceHandleMapping_descriptor_,
+      HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::default_instance_,
+      HLA13RTIAmbassadorState_ObjectInstanceHandleMapping_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_ObjectInstanceHandleMapping, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_ObjectInstanceHandleMapping, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(HLA13RTIAmbassadorState_ObjectInstanceHandleMapping));
+  HLA13RTIAmbassadorState_HLA13RegionState_descriptor_ = HLA13RTIAmbassadorState_descriptor_->nested_type(1);
+  static const int HLA13RTIAmbassadorState_HLA13RegionState_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_HLA13RegionState, token_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_HLA13RegionState, routingspacehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_HLA13RegionState, extentstates_),
+  };
+  HLA13RTIAmbassadorState_HLA13RegionState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      HLA13RTIAmbassadorState_HLA13RegionState_descriptor_,
+      HLA13RTIAmbassadorState_HLA13RegionState::default_instance_,
+      HLA13RTIAmbassadorState_HLA13RegionState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_HLA13RegionState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_HLA13RegionState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(HLA13RTIAmbassadorState_HLA13RegionState));
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_descriptor_ = HLA13RTIAmbassadorState_HLA13RegionState_descriptor_->nested_type(0);
+  static const int HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_HLA13RegionState_ExtentState, regionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_HLA13RegionState_ExtentState, rangebounds_),
+  };
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_descriptor_,
+      HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::default_instance_,
+      HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_HLA13RegionState_ExtentState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_HLA13RegionState_ExtentState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(HLA13RTIAmbassadorState_HLA13RegionState_ExtentState));
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds_descriptor_ = HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_descriptor_->nested_type(0);
+  static const int HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds, upper_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds, lower_),
+  };
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds_descriptor_,
+      HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::default_instance_,
+      HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds));
+  FederateState_descriptor_ = file->message_type(3);
+  static const int FederateState_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState, synchonizationpointstatecount_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState, hashla13rtiambassadorstate_),
+  };
+  FederateState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateState_descriptor_,
+      FederateState::default_instance_,
+      FederateState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateState));
+  FederateState_FederateSynchonizationPointState_descriptor_ = FederateState_descriptor_->nested_type(0);
+  static const int FederateState_FederateSynchonizationPointState_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateSynchonizationPointState, label_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateSynchonizationPointState, tag_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateSynchonizationPointState, state_),
+  };
+  FederateState_FederateSynchonizationPointState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateState_FederateSynchonizationPointState_descriptor_,
+      FederateState_FederateSynchonizationPointState::default_instance_,
+      FederateState_FederateSynchonizationPointState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateSynchonizationPointState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateSynchonizationPointState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateState_FederateSynchonizationPointState));
+  FederateState_FederateSynchonizationPointState_State_descriptor_ = FederateState_FederateSynchonizationPointState_descriptor_->enum_type(0);
+  FederateState_FederateObjectManagerState_descriptor_ = FederateState_descriptor_->nested_type(1);
+  static const int FederateState_FederateObjectManagerState_offsets_[6] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState, publishedobjectclasses_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState, publishedinteractionclasses_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState, reservedobjectinstancenames_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState, objectinstancenamesbeingreserved_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState, nextobjectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState, objectinstancestatecount_),
+  };
+  FederateState_FederateObjectManagerState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateState_FederateObjectManagerState_descriptor_,
+      FederateState_FederateObjectManagerState::default_instance_,
+      FederateState_FederateObjectManagerState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateState_FederateObjectManagerState));
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState_descriptor_ = FederateState_FederateObjectManagerState_descriptor_->nested_type(0);
+  static const int FederateState_FederateObjectManagerState_FederateObjectInstanceState_offsets_[7] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState, producingfederatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState, objectinstancename_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState, attributeinstancestates_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState, attributehandlesbeingacquired_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState, attributehandlesbeingacquiredifavailable_),
+  };
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateState_FederateObjectManagerState_FederateObjectInstanceState_descriptor_,
+      FederateState_FederateObjectManagerState_FederateObjectInstanceState::default_instance_,
+      FederateState_FederateObjectManagerState_FederateObjectInstanceState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateState_FederateObjectManagerState_FederateObjectInstanceState));
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState_descriptor_ = FederateState_FederateObjectManagerState_FederateObjectInstanceState_descriptor_->nested_type(0);
+  static const int FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState, attributehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState, transportationtypehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState, ordertype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState, divesting_),
+  };
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState_descriptor_,
+      FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::default_instance_,
+      FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState));
+  FederateState_FederateRegionManagerState_descriptor_ = FederateState_descriptor_->nested_type(2);
+  static const int FederateState_FederateRegionManagerState_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState, nextregionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState, regionstatecount_),
+  };
+  FederateState_FederateRegionManagerState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateState_FederateRegionManagerState_descriptor_,
+      FederateState_FederateRegionManagerState::default_instance_,
+      FederateState_FederateRegionManagerState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateState_FederateRegionManagerState));
+  FederateState_FederateRegionManagerState_FederateRegionState_descriptor_ = FederateState_FederateRegionManagerState_descriptor_->nested_type(0);
+  static const int FederateState_FederateRegionManagerState_FederateRegionState_offsets_[6] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState, regionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState, rangebounds_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState, uncommittedrangebounds_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState, subscribedobjectclasses_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState, subscribedinteractionclasses_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState, associatedobjectcount_),
+  };
+  FederateState_FederateRegionManagerState_FederateRegionState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateState_FederateRegionManagerState_FederateRegionState_descriptor_,
+      FederateState_FederateRegionManagerState_FederateRegionState::default_instance_,
+      FederateState_FederateRegionManagerState_FederateRegionState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateState_FederateRegionManagerState_FederateRegionState));
+  FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject_descriptor_ = FederateState_FederateRegionManagerState_FederateRegionState_descriptor_->nested_type(0);
+  static const int FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject, attributehandles_),
+  };
+  FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject_descriptor_,
+      FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::default_instance_,
+      FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject));
+  FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass_descriptor_ = FederateState_FederateRegionManagerState_FederateRegionState_descriptor_->nested_type(1);
+  static const int FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass, attributehandles_),
+  };
+  FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass_descriptor_,
+      FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::default_instance_,
+      FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass));
+  FederateState_FederateMessageRetractionManagerState_descriptor_ = FederateState_descriptor_->nested_type(3);
+  static const int FederateState_FederateMessageRetractionManagerState_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateMessageRetractionManagerState, nextmessageretractionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateMessageRetractionManagerState, messageretractioncount_),
+  };
+  FederateState_FederateMessageRetractionManagerState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateState_FederateMessageRetractionManagerState_descriptor_,
+      FederateState_FederateMessageRetractionManagerState::default_instance_,
+      FederateState_FederateMessageRetractionManagerState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateMessageRetractionManagerState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateMessageRetractionManagerState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateState_FederateMessageRetractionManagerState));
+  FederateState_FederateMessageRetractionManagerState_MessageRetraction_descriptor_ = FederateState_FederateMessageRetractionManagerState_descriptor_->nested_type(0);
+  static const int FederateState_FederateMessageRetractionManagerState_MessageRetraction_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateMessageRetractionManagerState_MessageRetraction, messageretractionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateMessageRetractionManagerState_MessageRetraction, expiration_),
+  };
+  FederateState_FederateMessageRetractionManagerState_MessageRetraction_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateState_FederateMessageRetractionManagerState_MessageRetraction_descriptor_,
+      FederateState_FederateMessageRetractionManagerState_MessageRetraction::default_instance_,
+      FederateState_FederateMessageRetractionManagerState_MessageRetraction_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateMessageRetractionManagerState_MessageRetraction, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateMessageRetractionManagerState_MessageRetraction, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateState_FederateMessageRetractionManagerState_MessageRetraction));
+  FederateState_FederateTimeManagerState_descriptor_ = FederateState_descriptor_->nested_type(4);
+  static const int FederateState_FederateTimeManagerState_offsets_[8] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateTimeManagerState, temporalstate_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateTimeManagerState, timeregulatingstate_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateTimeManagerState, timeconstrainedstate_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateTimeManagerState, federatetime_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateTimeManagerState, lookahead_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateTimeManagerState, lots_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateTimeManagerState, advancerequesttype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateTimeManagerState, advancerequesttime_),
+  };
+  FederateState_FederateTimeManagerState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateState_FederateTimeManagerState_descriptor_,
+      FederateState_FederateTimeManagerState::default_instance_,
+      FederateState_FederateTimeManagerState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateTimeManagerState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateState_FederateTimeManagerState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateState_FederateTimeManagerState));
+  FederateState_FederateTimeManagerState_TemporalState_descriptor_ = FederateState_FederateTimeManagerState_descriptor_->enum_type(0);
+  FederateState_FederateTimeManagerState_TimeRegulatingState_descriptor_ = FederateState_FederateTimeManagerState_descriptor_->enum_type(1);
+  FederateState_FederateTimeManagerState_TimeConstrainedState_descriptor_ = FederateState_FederateTimeManagerState_descriptor_->enum_type(2);
+  TimeStampOrderedMessageQueueState_descriptor_ = file->message_type(4);
+  static const int TimeStampOrderedMessageQueueState_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeStampOrderedMessageQueueState, queuedtimestamporderedmessagecount_),
+  };
+  TimeStampOrderedMessageQueueState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      TimeStampOrderedMessageQueueState_descriptor_,
+      TimeStampOrderedMessageQueueState::default_instance_,
+      TimeStampOrderedMessageQueueState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeStampOrderedMessageQueueState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeStampOrderedMessageQueueState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(TimeStampOrderedMessageQueueState));
+  TimeStampOrderedMessageQueueState_TimeStampOrderedMessage_descriptor_ = TimeStampOrderedMessageQueueState_descriptor_->nested_type(0);
+  static const int TimeStampOrderedMessageQueueState_TimeStampOrderedMessage_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeStampOrderedMessageQueueState_TimeStampOrderedMessage, producingfederatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeStampOrderedMessageQueueState_TimeStampOrderedMessage, sendinteraction_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeStampOrderedMessageQueueState_TimeStampOrderedMessage, updateattributevalues_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeStampOrderedMessageQueueState_TimeStampOrderedMessage, deleteobjectinstance_),
+  };
+  TimeStampOrderedMessageQueueState_TimeStampOrderedMessage_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      TimeStampOrderedMessageQueueState_TimeStampOrderedMessage_descriptor_,
+      TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::default_instance_,
+      TimeStampOrderedMessageQueueState_TimeStampOrderedMessage_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeStampOrderedMessageQueueState_TimeStampOrderedMessage, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(TimeStampOrderedMessageQueueState_TimeStampOrderedMessage, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(TimeStampOrderedMessageQueueState_TimeStampOrderedMessage));
+  FederateProxyState_descriptor_ = file->message_type(5);
+  static const int FederateProxyState_offsets_[12] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateProxyState, publishedobjectclasses_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateProxyState, publishedinteractionclasses_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateProxyState, timeregulationenabled_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateProxyState, lookahead_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateProxyState, timeconstrainedenabled_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateProxyState, timeconstrainedpending_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateProxyState, advancerequesttype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateProxyState, advancerequesttime_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateProxyState, federatetime_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateProxyState, galt_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateProxyState, lots_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateProxyState, discoveredobjectinstancehandlecount_),
+  };
+  FederateProxyState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateProxyState_descriptor_,
+      FederateProxyState::default_instance_,
+      FederateProxyState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateProxyState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateProxyState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateProxyState));
+  FederationExecutionState_descriptor_ = file->message_type(6);
+  static const int FederationExecutionState_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState, nextfederatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState, synchonizationpointstatecount_),
+  };
+  FederationExecutionState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationExecutionState_descriptor_,
+      FederationExecutionState::default_instance_,
+      FederationExecutionState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationExecutionState));
+  FederationExecutionState_FederationExecutionSynchonizationPointState_descriptor_ = FederationExecutionState_descriptor_->nested_type(0);
+  static const int FederationExecutionState_FederationExecutionSynchonizationPointState_offsets_[6] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionSynchonizationPointState, label_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionSynchonizationPointState, tag_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionSynchonizationPointState, federatehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionSynchonizationPointState, exclusive_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionSynchonizationPointState, awaitingsynchronization_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionSynchonizationPointState, failedtosynchronize_),
+  };
+  FederationExecutionState_FederationExecutionSynchonizationPointState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationExecutionState_FederationExecutionSynchonizationPointState_descriptor_,
+      FederationExecutionState_FederationExecutionSynchonizationPointState::default_instance_,
+      FederationExecutionState_FederationExecutionSynchonizationPointState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionSynchonizationPointState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionSynchonizationPointState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationExecutionState_FederationExecutionSynchonizationPointState));
+  FederationExecutionState_FederationExecutionObjectManagerState_descriptor_ = FederationExecutionState_descriptor_->nested_type(1);
+  static const int FederationExecutionState_FederationExecutionObjectManagerState_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState, reservedobjectinstancenamecount_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState, objectinstancestatecount_),
+  };
+  FederationExecutionState_FederationExecutionObjectManagerState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationExecutionState_FederationExecutionObjectManagerState_descriptor_,
+      FederationExecutionState_FederationExecutionObjectManagerState::default_instance_,
+      FederationExecutionState_FederationExecutionObjectManagerState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationExecutionState_FederationExecutionObjectManagerState));
+  FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName_descriptor_ = FederationExecutionState_FederationExecutionObjectManagerState_descriptor_->nested_type(0);
+  static const int FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName, objectinstancename_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName, federatehandle_),
+  };
+  FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName_descriptor_,
+      FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::default_instance_,
+      FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName));
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_descriptor_ = FederationExecutionState_FederationExecutionObjectManagerState_descriptor_->nested_type(1);
+  static const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_offsets_[5] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState, producingfederatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState, objectinstancehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState, objectinstancename_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState, attributeinstancestates_),
+  };
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_descriptor_,
+      FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::default_instance_,
+      FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState));
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_descriptor_ = FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_descriptor_->nested_type(0);
+  static const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_offsets_[10] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState, attributehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState, updaterate_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState, transportationtypehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState, ordertype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState, owningfederatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState, wantstodivest_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState, divestingtag_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState, requestingownershipfederatehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState, regionrealizations_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState, pendingregionassociations_),
+  };
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_descriptor_,
+      FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::default_instance_,
+      FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState));
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation_descriptor_ = FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_descriptor_->nested_type(0);
+  static const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation, federatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation, regionhandles_),
+  };
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation_descriptor_,
+      FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::default_instance_,
+      FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation));
+  FederationExecutionState_FederationExecutionRegionManagerState_descriptor_ = FederationExecutionState_descriptor_->nested_type(2);
+  static const int FederationExecutionState_FederationExecutionRegionManagerState_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionRegionManagerState, regionstatecount_),
+  };
+  FederationExecutionState_FederationExecutionRegionManagerState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationExecutionState_FederationExecutionRegionManagerState_descriptor_,
+      FederationExecutionState_FederationExecutionRegionManagerState::default_instance_,
+      FederationExecutionState_FederationExecutionRegionManagerState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionRegionManagerState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionRegionManagerState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationExecutionState_FederationExecutionRegionManagerState));
+  FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState_descriptor_ = FederationExecutionState_FederationExecutionRegionManagerState_descriptor_->nested_type(0);
+  static const int FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState, regionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState, rangebounds_),
+  };
+  FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState_descriptor_,
+      FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::default_instance_,
+      FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState));
+  FederationExecutionState_FederationExecutionTimeManagerState_descriptor_ = FederationExecutionState_descriptor_->nested_type(3);
+  static const int FederationExecutionState_FederationExecutionTimeManagerState_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionTimeManagerState, timeregulatingfederatehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionTimeManagerState, timeconstrainedfederatehandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionTimeManagerState, galt_),
+  };
+  FederationExecutionState_FederationExecutionTimeManagerState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederationExecutionState_FederationExecutionTimeManagerState_descriptor_,
+      FederationExecutionState_FederationExecutionTimeManagerState::default_instance_,
+      FederationExecutionState_FederationExecutionTimeManagerState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionTimeManagerState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederationExecutionState_FederationExecutionTimeManagerState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederationExecutionState_FederationExecutionTimeManagerState));
+  SavedFederationExecutionMessage_descriptor_ = file->message_type(7);
+  static const int SavedFederationExecutionMessage_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SavedFederationExecutionMessage, sendingfederatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SavedFederationExecutionMessage, federationexecutionmessagetype_),
+  };
+  SavedFederationExecutionMessage_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      SavedFederationExecutionMessage_descriptor_,
+      SavedFederationExecutionMessage::default_instance_,
+      SavedFederationExecutionMessage_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SavedFederationExecutionMessage, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SavedFederationExecutionMessage, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(SavedFederationExecutionMessage));
+}
+
+namespace {
+
+GOOGLE_PROTOBUF_DECLARE_ONCE(protobuf_AssignDescriptors_once_);
+inline void protobuf_AssignDescriptorsOnce() {
+  ::google::protobuf::GoogleOnceInit(&protobuf_AssignDescriptors_once_,
+                 &protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto);
+}
+
+void protobuf_RegisterTypes(const ::std::string&) {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationExecutionSaveHeader_descriptor_, &FederationExecutionSaveHeader::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateSaveHeader_descriptor_, &FederateSaveHeader::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    HLA13RTIAmbassadorState_descriptor_, &HLA13RTIAmbassadorState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    HLA13RTIAmbassadorState_ObjectInstanceHandleMapping_descriptor_, &HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    HLA13RTIAmbassadorState_HLA13RegionState_descriptor_, &HLA13RTIAmbassadorState_HLA13RegionState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_descriptor_, &HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds_descriptor_, &HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateState_descriptor_, &FederateState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateState_FederateSynchonizationPointState_descriptor_, &FederateState_FederateSynchonizationPointState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateState_FederateObjectManagerState_descriptor_, &FederateState_FederateObjectManagerState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateState_FederateObjectManagerState_FederateObjectInstanceState_descriptor_, &FederateState_FederateObjectManagerState_FederateObjectInstanceState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState_descriptor_, &FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateState_FederateRegionManagerState_descriptor_, &FederateState_FederateRegionManagerState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateState_FederateRegionManagerState_FederateRegionState_descriptor_, &FederateState_FederateRegionManagerState_FederateRegionState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject_descriptor_, &FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass_descriptor_, &FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateState_FederateMessageRetractionManagerState_descriptor_, &FederateState_FederateMessageRetractionManagerState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateState_FederateMessageRetractionManagerState_MessageRetraction_descriptor_, &FederateState_FederateMessageRetractionManagerState_MessageRetraction::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateState_FederateTimeManagerState_descriptor_, &FederateState_FederateTimeManagerState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    TimeStampOrderedMessageQueueState_descriptor_, &TimeStampOrderedMessageQueueState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    TimeStampOrderedMessageQueueState_TimeStampOrderedMessage_descriptor_, &TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateProxyState_descriptor_, &FederateProxyState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationExecutionState_descriptor_, &FederationExecutionState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationExecutionState_FederationExecutionSynchonizationPointState_descriptor_, &FederationExecutionState_FederationExecutionSynchonizationPointState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationExecutionState_FederationExecutionObjectManagerState_descriptor_, &FederationExecutionState_FederationExecutionObjectManagerState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName_descriptor_, &FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_descriptor_, &FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_descriptor_, &FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation_descriptor_, &FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationExecutionState_FederationExecutionRegionManagerState_descriptor_, &FederationExecutionState_FederationExecutionRegionManagerState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState_descriptor_, &FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederationExecutionState_FederationExecutionTimeManagerState_descriptor_, &FederationExecutionState_FederationExecutionTimeManagerState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    SavedFederationExecutionMessage_descriptor_, &SavedFederationExecutionMessage::default_instance());
+}
+
+}  // namespace
+
+void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto() {
+  delete FederationExecutionSaveHeader::default_instance_;
+  delete FederationExecutionSaveHeader_reflection_;
+  delete FederateSaveHeader::default_instance_;
+  delete FederateSaveHeader_reflection_;
+  delete HLA13RTIAmbassadorState::default_instance_;
+  delete HLA13RTIAmbassadorState_reflection_;
+  delete HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::default_instance_;
+  delete HLA13RTIAmbassadorState_ObjectInstanceHandleMapping_reflection_;
+  delete HLA13RTIAmbassadorState_HLA13RegionState::default_instance_;
+  delete HLA13RTIAmbassadorState_HLA13RegionState_reflection_;
+  delete HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::default_instance_;
+  delete HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_reflection_;
+  delete HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::default_instance_;
+  delete HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds_reflection_;
+  delete FederateState::default_instance_;
+  delete FederateState_reflection_;
+  delete FederateState_FederateSynchonizationPointState::default_instance_;
+  delete FederateState_FederateSynchonizationPointState_reflection_;
+  delete FederateState_FederateObjectManagerState::default_instance_;
+  delete FederateState_FederateObjectManagerState_reflection_;
+  delete FederateState_FederateObjectManagerState_FederateObjectInstanceState::default_instance_;
+  delete FederateState_FederateObjectManagerState_FederateObjectInstanceState_reflection_;
+  delete FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::default_instance_;
+  delete FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState_reflection_;
+  delete FederateState_FederateRegionManagerState::default_instance_;
+  delete FederateState_FederateRegionManagerState_reflection_;
+  delete FederateState_FederateRegionManagerState_FederateRegionState::default_instance_;
+  delete FederateState_FederateRegionManagerState_FederateRegionState_reflection_;
+  delete FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::default_instance_;
+  delete FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject_reflection_;
+  delete FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::default_instance_;
+  delete FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass_reflection_;
+  delete FederateState_FederateMessageRetractionManagerState::default_instance_;
+  delete FederateState_FederateMessageRetractionManagerState_reflection_;
+  delete FederateState_FederateMessageRetractionManagerState_MessageRetraction::default_instance_;
+  delete FederateState_FederateMessageRetractionManagerState_MessageRetraction_reflection_;
+  delete FederateState_FederateTimeManagerState::default_instance_;
+  delete FederateState_FederateTimeManagerState_reflection_;
+  delete TimeStampOrderedMessageQueueState::default_instance_;
+  delete TimeStampOrderedMessageQueueState_reflection_;
+  delete TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::default_instance_;
+  delete TimeStampOrderedMessageQueueState_TimeStampOrderedMessage_reflection_;
+  delete FederateProxyState::default_instance_;
+  delete FederateProxyState_reflection_;
+  delete FederationExecutionState::default_instance_;
+  delete FederationExecutionState_reflection_;
+  delete FederationExecutionState_FederationExecutionSynchonizationPointState::default_instance_;
+  delete FederationExecutionState_FederationExecutionSynchonizationPointState_reflection_;
+  delete FederationExecutionState_FederationExecutionObjectManagerState::default_instance_;
+  delete FederationExecutionState_FederationExecutionObjectManagerState_reflection_;
+  delete FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::default_instance_;
+  delete FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName_reflection_;
+  delete FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::default_instance_;
+  delete FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_reflection_;
+  delete FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::default_instance_;
+  delete FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_reflection_;
+  delete FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::default_instance_;
+  delete FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation_reflection_;
+  delete FederationExecutionState_FederationExecutionRegionManagerState::default_instance_;
+  delete FederationExecutionState_FederationExecutionRegionManagerState_reflection_;
+  delete FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::default_instance_;
+  delete FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState_reflection_;
+  delete FederationExecutionState_FederationExecutionTimeManagerState::default_instance_;
+  delete FederationExecutionState_FederationExecutionTimeManagerState_reflection_;
+  delete SavedFederationExecutionMessage::default_instance_;
+  delete SavedFederationExecutionMessage_reflection_;
+}
+
+void protobuf_AddDesc_FederationExecutionSaveProtos_2eproto() {
+  static bool already_here = false;
+  if (already_here) return;
+  already_here = true;
+  GOOGLE_PROTOBUF_VERIFY_VERSION;
+
+  ::ohla::rti::proto::protobuf_AddDesc_OHLAProtos_2eproto();
+  ::ohla::rti::messages::proto::protobuf_AddDesc_MessageProtos_2eproto();
+  ::ohla::rti::messages::proto::protobuf_AddDesc_FederationExecutionMessageProtos_2eproto();
+  ::google::protobuf::DescriptorPool::InternalAddGeneratedFile(
+    "\n#FederationExecutionSaveProtos.proto\022\016o"
+    "hla.rti.proto\032\020OHLAProtos.proto\032\023Message"
+    "Protos.proto\032&FederationExecutionMessage"
+    "Protos.proto\"\254\001\n\035FederationExecutionSave"
+    "Header\022\r\n\005label\030\001 \002(\t\022\037\n\027federationExecu"
+    "tionName\030\002 \002(\t\022\025\n\rfederateCount\030\003 \002(\r\022\020\n"
+    "\010saveTime\030\004 \001(\014\022 \n\003fdd\030\005 \002(\0132\023.ohla.rti."
+    "proto.FDD\022\020\n\010realTime\030\006 \002(\004\"\227\001\n\022Federate"
+    "SaveHeader\022\026\n\016federateHandle\030\001 \002(\r\022\024\n\014fe"
+    "derateName\030\002 \002(\t\022\024\n\014federateType\030\003 \002(\t\022\033"
+    "\n\023federateStateLength\030\004 \002(\004\022 \n\030federateP"
+    "roxyStateLength\030\005 \002(\004\"\373\004\n\027HLA13RTIAmbass"
+    "adorState\022 \n\030nextObjectInstanceHandle\030\001 "
+    "\002(\r\022\027\n\017nextRegionToken\030\002 \002(\r\022(\n objectIn"
+    "stanceHandleMappingCount\030\003 \002(\r\022\023\n\013region"
+    "Count\030\004 \002(\r\032r\n\033ObjectInstanceHandleMappi"
+    "ng\022B\n\024objectInstanceHandle\030\001 \002(\0132$.ohla."
+    "rti.proto.ObjectInstanceHandle\022\017\n\007mappin"
+    "g\030\002 \002(\r\032\361\002\n\020HLA13RegionState\022\r\n\005token\030\001 "
+    "\002(\r\022\032\n\022routingSpaceHandle\030\002 \002(\r\022Z\n\014exten"
+    "tStates\030\003 \003(\0132D.ohla.rti.proto.HLA13RTIA"
+    "mbassadorState.HLA13RegionState.ExtentSt"
+    "ate\032\325\001\n\013ExtentState\0222\n\014regionHandle\030\001 \002("
+    "\0132\034.ohla.rti.proto.RegionHandle\022e\n\013range"
+    "Bounds\030\002 \003(\0132P.ohla.rti.proto.HLA13RTIAm"
+    "bassadorState.HLA13RegionState.ExtentSta"
+    "te.RangeBounds\032+\n\013RangeBounds\022\r\n\005upper\030\001"
+    " \002(\004\022\r\n\005lower\030\002 \002(\004\"\234\026\n\rFederateState\022%\n"
+    "\035synchonizationPointStateCount\030\001 \002(\r\022\"\n\032"
+    "hasHLA13RTIAmbassadorState\030\002 \002(\010\032\352\001\n Fed"
+    "erateSynchonizationPointState\022\r\n\005label\030\001"
+    " \002(\t\022\013\n\003tag\030\002 \001(\014\022S\n\005state\030\003 \002(\0162D.ohla."
+    "rti.proto.FederateState.FederateSynchoni"
+    "zationPointState.State\"U\n\005State\022\031\n\025MOVIN"
+    "G_TO_SYNCH_POINT\020\001\0221\n-WAITING_FOR_REST_O"
+    "F_FEDERATION_TO_SYNCHRONIZE\020\002\032\345\006\n\032Federa"
+    "teObjectManagerState\022D\n\026publishedObjectC"
+    "lasses\030\001 \003(\0132$.ohla.rti.proto.PublishedO"
+    "bjectClass\022#\n\033publishedInteractionClasse"
+    "s\030\002 \003(\r\022#\n\033reservedObjectInstanceNames\030\003"
+    " \003(\t\022(\n objectInstanceNamesBeingReserved"
+    "\030\004 \003(\t\022 \n\030nextObjectInstanceHandle\030\005 \002(\r"
+    "\022 \n\030objectInstanceStateCount\030\006 \002(\r\032\310\004\n\033F"
+    "ederateObjectInstanceState\022\037\n\027producingF"
+    "ederateHandle\030\001 \002(\r\022B\n\024objectInstanceHan"
+    "dle\030\002 \002(\0132$.ohla.rti.proto.ObjectInstanc"
+    "eHandle\022\031\n\021objectClassHandle\030\003 \002(\r\022\032\n\022ob"
+    "jectInstanceName\030\004 \002(\t\022\224\001\n\027attributeInst"
+    "anceStates\030\005 \003(\0132s.ohla.rti.proto.Federa"
+    "teState.FederateObjectManagerState.Feder"
+    "ateObjectInstanceState.FederateAttribute"
+    "InstanceState\022%\n\035attributeHandlesBeingAc"
+    "quired\030\006 \003(\r\0220\n(attributeHandlesBeingAcq"
+    "uiredIfAvailable\030\007 \003(\r\032\234\001\n\036FederateAttri"
+    "buteInstanceState\022\027\n\017attributeHandle\030\001 \002"
+    "(\r\022 \n\030transportationTypeHandle\030\002 \002(\r\022,\n\t"
+    "orderType\030\003 \002(\0162\031.ohla.rti.proto.OrderTy"
+    "pe\022\021\n\tdivesting\030\004 \002(\010\032\246\005\n\032FederateRegion"
+    "ManagerState\022\030\n\020nextRegionHandle\030\001 \002(\r\022\030"
+    "\n\020regionStateCount\030\002 \002(\r\032\323\004\n\023FederateReg"
+    "ionState\0222\n\014regionHandle\030\001 \002(\0132\034.ohla.rt"
+    "i.proto.RegionHandle\0228\n\013rangeBounds\030\002 \003("
+    "\0132#.ohla.rti.proto.DimensionRangeBound\022C"
+    "\n\026uncommittedRangeBounds\030\003 \003(\0132#.ohla.rt"
+    "i.proto.DimensionRangeBound\022\203\001\n\027subscrib"
+    "edObjectClasses\030\004 \003(\0132b.ohla.rti.proto.F"
+    "ederateState.FederateRegionManagerState."
+    "FederateRegionState.SubscribedObjectClas"
+    "s\022$\n\034subscribedInteractionClasses\030\005 \003(\r\022"
+    "\035\n\025associatedObjectCount\030\006 \002(\r\032p\n\020Associ"
+    "atedObject\022B\n\024objectInstanceHandle\030\001 \002(\013"
+    "2$.ohla.rti.proto.ObjectInstanceHandle\022\030"
+    "\n\020attributeHandles\030\002 \003(\r\032L\n\025SubscribedOb"
+    "jectClass\022\031\n\021objectClassHandle\030\001 \002(\r\022\030\n\020"
+    "attributeHandles\030\002 \003(\r\032\337\001\n%FederateMessa"
+    "geRetractionManagerState\022#\n\033nextMessageR"
+    "etractionHandle\030\001 \002(\004\022\036\n\026messageRetracti"
+    "onCount\030\002 \002(\r\032q\n\021MessageRetraction\022H\n\027me"
+    "ssageRetractionHandle\030\001 \002(\0132\'.ohla.rti.p"
+    "roto.MessageRetractionHandle\022\022\n\nexpirati"
+    "on\030\002 \002(\014\032\337\005\n\030FederateTimeManagerState\022[\n"
+    "\rtemporalState\030\001 \002(\0162D.ohla.rti.proto.Fe"
+    "derateState.FederateTimeManagerState.Tem"
+    "poralState\022g\n\023timeRegulatingState\030\002 \002(\0162"
+    "J.ohla.rti.proto.FederateState.FederateT"
+    "imeManagerState.TimeRegulatingState\022i\n\024t"
+    "imeConstrainedState\030\003 \002(\0162K.ohla.rti.pro"
+    "to.FederateState.FederateTimeManagerStat"
+    "e.TimeConstrainedState\022\024\n\014federateTime\030\004"
+    " \002(\014\022\021\n\tlookahead\030\005 \001(\014\022\014\n\004lots\030\006 \001(\014\022>\n"
+    "\022advanceRequestType\030\007 \002(\0162\".ohla.rti.pro"
+    "to.AdvanceRequestType\022\032\n\022advanceRequestT"
+    "ime\030\010 \001(\014\"5\n\rTemporalState\022\022\n\016TIME_ADVAN"
+    "CING\020\001\022\020\n\014TIME_GRANTED\020\002\"a\n\023TimeRegulati"
+    "ngState\022\023\n\017TIME_REGULATING\020\001\022\034\n\030BECOMING"
+    "_TIME_REGULATING\020\002\022\027\n\023NOT_TIME_REGULATIN"
+    "G\020\003\"e\n\024TimeConstrainedState\022\024\n\020TIME_CONS"
+    "TRAINED\020\001\022\035\n\031BECOMING_TIME_CONSTRAINED\020\002"
+    "\022\030\n\024NOT_TIME_CONSTRAINED\020\003\"\353\002\n!TimeStamp"
+    "OrderedMessageQueueState\022*\n\"queuedTimeSt"
+    "ampOrderedMessageCount\030\001 \002(\r\032\231\002\n\027TimeSta"
+    "mpOrderedMessage\022\037\n\027producingFederateHan"
+    "dle\030\001 \002(\r\022A\n\017sendInteraction\030\002 \001(\0132(.ohl"
+    "a.rti.messages.proto.SendInteraction\022M\n\025"
+    "updateAttributeValues\030\003 \001(\0132..ohla.rti.m"
+    "essages.proto.UpdateAttributeValues\022K\n\024d"
+    "eleteObjectInstance\030\004 \001(\0132-.ohla.rti.mes"
+    "sages.proto.DeleteObjectInstance\"\254\003\n\022Fed"
+    "erateProxyState\022D\n\026publishedObjectClasse"
+    "s\030\001 \003(\0132$.ohla.rti.proto.PublishedObject"
+    "Class\022#\n\033publishedInteractionClasses\030\002 \003"
+    "(\r\022\035\n\025timeRegulationEnabled\030\003 \002(\010\022\021\n\tloo"
+    "kahead\030\004 \001(\014\022\036\n\026timeConstrainedEnabled\030\005"
+    " \002(\010\022\036\n\026timeConstrainedPending\030\006 \002(\010\022>\n\022"
+    "advanceRequestType\030\007 \002(\0162\".ohla.rti.prot"
+    "o.AdvanceRequestType\022\032\n\022advanceRequestTi"
+    "me\030\010 \001(\014\022\024\n\014federateTime\030\t \002(\014\022\014\n\004galt\030\n"
+    " \001(\014\022\014\n\004lots\030\013 \001(\014\022+\n#discoveredObjectIn"
+    "stanceHandleCount\030\014 \002(\r\"\343\016\n\030FederationEx"
+    "ecutionState\022\032\n\022nextFederateHandle\030\001 \002(\r"
+    "\022%\n\035synchonizationPointStateCount\030\002 \002(\r\032"
+    "\263\001\n+FederationExecutionSynchonizationPoi"
+    "ntState\022\r\n\005label\030\001 \002(\t\022\013\n\003tag\030\002 \001(\014\022\027\n\017f"
+    "ederateHandles\030\003 \003(\r\022\021\n\texclusive\030\004 \002(\010\022"
+    "\037\n\027awaitingSynchronization\030\005 \003(\r\022\033\n\023fail"
+    "edToSynchronize\030\006 \003(\r\032\363\t\n%FederationExec"
+    "utionObjectManagerState\022\'\n\037reservedObjec"
+    "tInstanceNameCount\030\001 \002(\r\022 \n\030objectInstan"
+    "ceStateCount\030\002 \002(\r\032P\n\032ReservedObjectInst"
+    "anceName\022\032\n\022objectInstanceName\030\001 \002(\t\022\026\n\016"
+    "federateHandle\030\002 \002(\r\032\254\010\n&FederationExecu"
+    "tionObjectInstanceState\022\037\n\027producingFede"
+    "rateHandle\030\001 \002(\r\022B\n\024objectInstanceHandle"
+    "\030\002 \002(\0132$.ohla.rti.proto.ObjectInstanceHa"
+    "ndle\022\031\n\021objectClassHandle\030\003 \002(\r\022\032\n\022objec"
+    "tInstanceName\030\004 \002(\t\022\301\001\n\027attributeInstanc"
+    "eStates\030\005 \003(\0132\237\001.ohla.rti.proto.Federati"
+    "onExecutionState.FederationExecutionObje"
+    "ctManagerState.FederationExecutionObject"
+    "InstanceState.FederationExecutionAttribu"
+    "teInstanceState\032\241\005\n)FederationExecutionA"
+    "ttributeInstanceState\022\027\n\017attributeHandle"
+    "\030\001 \002(\r\022\022\n\nupdateRate\030\002 \002(\001\022 \n\030transporta"
+    "tionTypeHandle\030\003 \002(\r\022,\n\torderType\030\004 \002(\0162"
+    "\031.ohla.rti.proto.OrderType\022\034\n\024owningFede"
+    "rateHandle\030\005 \001(\r\022\025\n\rwantsToDivest\030\006 \002(\010\022"
+    "\024\n\014divestingTag\030\007 \001(\014\022*\n\"requestingOwner"
+    "shipFederateHandles\030\010 \003(\r\0228\n\022regionReali"
+    "zations\030\t \003(\0132\034.ohla.rti.proto.RegionHan"
+    "dle\022\334\001\n\031pendingRegionAssociations\030\n \003(\0132"
+    "\270\001.ohla.rti.proto.FederationExecutionSta"
+    "te.FederationExecutionObjectManagerState"
+    ".FederationExecutionObjectInstanceState."
+    "FederationExecutionAttributeInstanceStat"
+    "e.PendingRegionAssociation\032g\n\030PendingReg"
+    "ionAssociation\022\026\n\016federateHandle\030\001 \002(\r\0223"
+    "\n\rregionHandles\030\002 \003(\0132\034.ohla.rti.proto.R"
+    "egionHandle\032\322\001\n%FederationExecutionRegio"
+    "nManagerState\022\030\n\020regionStateCount\030\001 \002(\r\032"
+    "\216\001\n\036FederationExecutionRegionState\0222\n\014re"
+    "gionHandle\030\001 \002(\0132\034.ohla.rti.proto.Region"
+    "Handle\0228\n\013rangeBounds\030\002 \003(\0132#.ohla.rti.p"
+    "roto.DimensionRangeBound\032\202\001\n#FederationE"
+    "xecutionTimeManagerState\022%\n\035timeRegulati"
+    "ngFederateHandles\030\001 \003(\r\022&\n\036timeConstrain"
+    "edFederateHandles\030\002 \003(\r\022\014\n\004galt\030\003 \001(\014\"\216\001"
+    "\n\037SavedFederationExecutionMessage\022\035\n\025sen"
+    "dingFederateHandle\030\001 \002(\r\022L\n\036federationEx"
+    "ecutionMessageType\030\002 \002(\0162$.ohla.rti.mess"
+    "ages.proto.MessageTypeB\027\n\025net.sf.ohla.rt"
+    "i.proto", 6807);
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
+    "FederationExecutionSaveProtos.proto", &protobuf_RegisterTypes);
+  FederationExecutionSaveHeader::default_instance_ = new FederationExecutionSaveHeader();
+  FederateSaveHeader::default_instance_ = new FederateSaveHeader();
+  HLA13RTIAmbassadorState::default_instance_ = new HLA13RTIAmbassadorState();
+  HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::default_instance_ = new HLA13RTIAmbassadorState_ObjectInstanceHandleMapping();
+  HLA13RTIAmbassadorState_HLA13RegionState::default_instance_ = new HLA13RTIAmbassadorState_HLA13RegionState();
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::default_instance_ = new HLA13RTIAmbassadorState_HLA13RegionState_ExtentState();
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::default_instance_ = new HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds();
+  FederateState::default_instance_ = new FederateState();
+  FederateState_FederateSynchonizationPointState::default_instance_ = new FederateState_FederateSynchonizationPointState();
+  FederateState_FederateObjectManagerState::default_instance_ = new FederateState_FederateObjectManagerState();
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState::default_instance_ = new FederateState_FederateObjectManagerState_FederateObjectInstanceState();
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::default_instance_ = new FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState();
+  FederateState_FederateRegionManagerState::default_instance_ = new FederateState_FederateRegionManagerState();
+  FederateState_FederateRegionManagerState_FederateRegionState::default_instance_ = new FederateState_FederateRegionManagerState_FederateRegionState();
+  FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::default_instance_ = new FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject();
+  FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::default_instance_ = new FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass();
+  FederateState_FederateMessageRetractionManagerState::default_instance_ = new FederateState_FederateMessageRetractionManagerState();
+  FederateState_FederateMessageRetractionManagerState_MessageRetraction::default_instance_ = new FederateState_FederateMessageRetractionManagerState_MessageRetraction();
+  FederateState_FederateTimeManagerState::default_instance_ = new FederateState_FederateTimeManagerState();
+  TimeStampOrderedMessageQueueState::default_instance_ = new TimeStampOrderedMessageQueueState();
+  TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::default_instance_ = new TimeStampOrderedMessageQueueState_TimeStampOrderedMessage();
+  FederateProxyState::default_instance_ = new FederateProxyState();
+  FederationExecutionState::default_instance_ = new FederationExecutionState();
+  FederationExecutionState_FederationExecutionSynchonizationPointState::default_instance_ = new FederationExecutionState_FederationExecutionSynchonizationPointState();
+  FederationExecutionState_FederationExecutionObjectManagerState::default_instance_ = new FederationExecutionState_FederationExecutionObjectManagerState();
+  FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::default_instance_ = new FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName();
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::default_instance_ = new FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState();
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::default_instance_ = new FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState();
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::default_instance_ = new FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation();
+  FederationExecutionState_FederationExecutionRegionManagerState::default_instance_ = new FederationExecutionState_FederationExecutionRegionManagerState();
+  FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::default_instance_ = new FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState();
+  FederationExecutionState_FederationExecutionTimeManagerState::default_instance_ = new FederationExecutionState_FederationExecutionTimeManagerState();
+  SavedFederationExecutionMessage::default_instance_ = new SavedFederationExecutionMessage();
+  FederationExecutionSaveHeader::default_instance_->InitAsDefaultInstance();
+  FederateSaveHeader::default_instance_->InitAsDefaultInstance();
+  HLA13RTIAmbassadorState::default_instance_->InitAsDefaultInstance();
+  HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::default_instance_->InitAsDefaultInstance();
+  HLA13RTIAmbassadorState_HLA13RegionState::default_instance_->InitAsDefaultInstance();
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::default_instance_->InitAsDefaultInstance();
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::default_instance_->InitAsDefaultInstance();
+  FederateState::default_instance_->InitAsDefaultInstance();
+  FederateState_FederateSynchonizationPointState::default_instance_->InitAsDefaultInstance();
+  FederateState_FederateObjectManagerState::default_instance_->InitAsDefaultInstance();
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState::default_instance_->InitAsDefaultInstance();
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::default_instance_->InitAsDefaultInstance();
+  FederateState_FederateRegionManagerState::default_instance_->InitAsDefaultInstance();
+  FederateState_FederateRegionManagerState_FederateRegionState::default_instance_->InitAsDefaultInstance();
+  FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::default_instance_->InitAsDefaultInstance();
+  FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::default_instance_->InitAsDefaultInstance();
+  FederateState_FederateMessageRetractionManagerState::default_instance_->InitAsDefaultInstance();
+  FederateState_FederateMessageRetractionManagerState_MessageRetraction::default_instance_->InitAsDefaultInstance();
+  FederateState_FederateTimeManagerState::default_instance_->InitAsDefaultInstance();
+  TimeStampOrderedMessageQueueState::default_instance_->InitAsDefaultInstance();
+  TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::default_instance_->InitAsDefaultInstance();
+  FederateProxyState::default_instance_->InitAsDefaultInstance();
+  FederationExecutionState::default_instance_->InitAsDefaultInstance();
+  FederationExecutionState_FederationExecutionSynchonizationPointState::default_instance_->InitAsDefaultInstance();
+  FederationExecutionState_FederationExecutionObjectManagerState::default_instance_->InitAsDefaultInstance();
+  FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::default_instance_->InitAsDefaultInstance();
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::default_instance_->InitAsDefaultInstance();
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::default_instance_->InitAsDefaultInstance();
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::default_instance_->InitAsDefaultInstance();
+  FederationExecutionState_FederationExecutionRegionManagerState::default_instance_->InitAsDefaultInstance();
+  FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::default_instance_->InitAsDefaultInstance();
+  FederationExecutionState_FederationExecutionTimeManagerState::default_instance_->InitAsDefaultInstance();
+  SavedFederationExecutionMessage::default_instance_->InitAsDefaultInstance();
+  ::google::protobuf::internal::OnShutdown(&protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto);
+}
+
+// Force AddDescriptors() to be called at static initialization time.
+struct StaticDescriptorInitializer_FederationExecutionSaveProtos_2eproto {
+  StaticDescriptorInitializer_FederationExecutionSaveProtos_2eproto() {
+    protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  }
+} static_descriptor_initializer_FederationExecutionSaveProtos_2eproto_;
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FederationExecutionSaveHeader::kLabelFieldNumber;
+const int FederationExecutionSaveHeader::kFederationExecutionNameFieldNumber;
+const int FederationExecutionSaveHeader::kFederateCountFieldNumber;
+const int FederationExecutionSaveHeader::kSaveTimeFieldNumber;
+const int FederationExecutionSaveHeader::kFddFieldNumber;
+const int FederationExecutionSaveHeader::kRealTimeFieldNumber;
+#endif  // !_MSC_VER
+
+FederationExecutionSaveHeader::FederationExecutionSaveHeader()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationExecutionSaveHeader::InitAsDefaultInstance() {
+  fdd_ = const_cast< ::ohla::rti::proto::FDD*>(&::ohla::rti::proto::FDD::default_instance());
+}
+
+FederationExecutionSaveHeader::FederationExecutionSaveHeader(const FederationExecutionSaveHeader& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationExecutionSaveHeader::SharedCtor() {
+  _cached_size_ = 0;
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  federatecount_ = 0u;
+  savetime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  fdd_ = NULL;
+  realtime_ = GOOGLE_ULONGLONG(0);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationExecutionSaveHeader::~FederationExecutionSaveHeader() {
+  SharedDtor();
+}
+
+void FederationExecutionSaveHeader::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    delete federationexecutionname_;
+  }
+  if (savetime_ != &::google::protobuf::internal::kEmptyString) {
+    delete savetime_;
+  }
+  if (this != default_instance_) {
+    delete fdd_;
+  }
+}
+
+void FederationExecutionSaveHeader::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationExecutionSaveHeader::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationExecutionSaveHeader_descriptor_;
+}
+
+const FederationExecutionSaveHeader& FederationExecutionSaveHeader::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationExecutionSaveHeader* FederationExecutionSaveHeader::default_instance_ = NULL;
+
+FederationExecutionSaveHeader* FederationExecutionSaveHeader::New() const {
+  return new FederationExecutionSaveHeader;
+}
+
+void FederationExecutionSaveHeader::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+    if (has_federationexecutionname()) {
+      if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+        federationexecutionname_->clear();
+      }
+    }
+    federatecount_ = 0u;
+    if (has_savetime()) {
+      if (savetime_ != &::google::protobuf::internal::kEmptyString) {
+        savetime_->clear();
+      }
+    }
+    if (has_fdd()) {
+      if (fdd_ != NULL) fdd_->::ohla::rti::proto::FDD::Clear();
+    }
+    realtime_ = GOOGLE_ULONGLONG(0);
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationExecutionSaveHeader::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string label = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_federationExecutionName;
+        break;
+      }
+
+      // required string federationExecutionName = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_federationExecutionName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_federationexecutionname()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->federationexecutionname().data(), this->federationexecutionname().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_federateCount;
+        break;
+      }
+
+      // required uint32 federateCount = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_federateCount:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatecount_)));
+          set_has_federatecount();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_saveTime;
+        break;
+      }
+
+      // optional bytes saveTime = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_saveTime:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_savetime()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(42)) goto parse_fdd;
+        break;
+      }
+
+      // required .ohla.rti.proto.FDD fdd = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_fdd:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_fdd()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(48)) goto parse_realTime;
+        break;
+      }
+
+      // required uint64 realTime = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_realTime:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &realtime_)));
+          set_has_realtime();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationExecutionSaveHeader::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->label(), output);
+  }
+
+  // required string federationExecutionName = 2;
+  if (has_federationexecutionname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federationexecutionname().data(), this->federationexecutionname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->federationexecutionname(), output);
+  }
+
+  // required uint32 federateCount = 3;
+  if (has_federatecount()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(3, this->federatecount(), output);
+  }
+
+  // optional bytes saveTime = 4;
+  if (has_savetime()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      4, this->savetime(), output);
+  }
+
+  // required .ohla.rti.proto.FDD fdd = 5;
+  if (has_fdd()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      5, this->fdd(), output);
+  }
+
+  // required uint64 realTime = 6;
+  if (has_realtime()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(6, this->realtime(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationExecutionSaveHeader::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->label(), target);
+  }
+
+  // required string federationExecutionName = 2;
+  if (has_federationexecutionname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federationexecutionname().data(), this->federationexecutionname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->federationexecutionname(), target);
+  }
+
+  // required uint32 federateCount = 3;
+  if (has_federatecount()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(3, this->federatecount(), target);
+  }
+
+  // optional bytes saveTime = 4;
+  if (has_savetime()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        4, this->savetime(), target);
+  }
+
+  // required .ohla.rti.proto.FDD fdd = 5;
+  if (has_fdd()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        5, this->fdd(), target);
+  }
+
+  // required uint64 realTime = 6;
+  if (has_realtime()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(6, this->realtime(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationExecutionSaveHeader::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string label = 1;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+    // required string federationExecutionName = 2;
+    if (has_federationexecutionname()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->federationexecutionname());
+    }
+
+    // required uint32 federateCount = 3;
+    if (has_federatecount()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatecount());
+    }
+
+    // optional bytes saveTime = 4;
+    if (has_savetime()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->savetime());
+    }
+
+    // required .ohla.rti.proto.FDD fdd = 5;
+    if (has_fdd()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->fdd());
+    }
+
+    // required uint64 realTime = 6;
+    if (has_realtime()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->realtime());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationExecutionSaveHeader::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationExecutionSaveHeader* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationExecutionSaveHeader*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationExecutionSaveHeader::MergeFrom(const FederationExecutionSaveHeader& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+    if (from.has_federationexecutionname()) {
+      set_federationexecutionname(from.federationexecutionname());
+    }
+    if (from.has_federatecount()) {
+      set_federatecount(from.federatecount());
+    }
+    if (from.has_savetime()) {
+      set_savetime(from.savetime());
+    }
+    if (from.has_fdd()) {
+      mutable_fdd()->::ohla::rti::proto::FDD::MergeFrom(from.fdd());
+    }
+    if (from.has_realtime()) {
+      set_realtime(from.realtime());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationExecutionSaveHeader::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationExecutionSaveHeader::CopyFrom(const FederationExecutionSaveHeader& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationExecutionSaveHeader::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000037) != 0x00000037) return false;
+
+  if (has_fdd()) {
+    if (!this->fdd().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FederationExecutionSaveHeader::Swap(FederationExecutionSaveHeader* other) {
+  if (other != this) {
+    std::swap(label_, other->label_);
+    std::swap(federationexecutionname_, other->federationexecutionname_);
+    std::swap(federatecount_, other->federatecount_);
+    std::swap(savetime_, other->savetime_);
+    std::swap(fdd_, other->fdd_);
+    std::swap(realtime_, other->realtime_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationExecutionSaveHeader::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationExecutionSaveHeader_descriptor_;
+  metadata.reflection = FederationExecutionSaveHeader_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FederateSaveHeader::kFederateHandleFieldNumber;
+const int FederateSaveHeader::kFederateNameFieldNumber;
+const int FederateSaveHeader::kFederateTypeFieldNumber;
+const int FederateSaveHeader::kFederateStateLengthFieldNumber;
+const int FederateSaveHeader::kFederateProxyStateLengthFieldNumber;
+#endif  // !_MSC_VER
+
+FederateSaveHeader::FederateSaveHeader()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateSaveHeader::InitAsDefaultInstance() {
+}
+
+FederateSaveHeader::FederateSaveHeader(const FederateSaveHeader& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateSaveHeader::SharedCtor() {
+  _cached_size_ = 0;
+  federatehandle_ = 0u;
+  federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  federatetype_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  federatestatelength_ = GOOGLE_ULONGLONG(0);
+  federateproxystatelength_ = GOOGLE_ULONGLONG(0);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateSaveHeader::~FederateSaveHeader() {
+  SharedDtor();
+}
+
+void FederateSaveHeader::SharedDtor() {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatename_;
+  }
+  if (federatetype_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatetype_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FederateSaveHeader::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateSaveHeader::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateSaveHeader_descriptor_;
+}
+
+const FederateSaveHeader& FederateSaveHeader::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateSaveHeader* FederateSaveHeader::default_instance_ = NULL;
+
+FederateSaveHeader* FederateSaveHeader::New() const {
+  return new FederateSaveHeader;
+}
+
+void FederateSaveHeader::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    federatehandle_ = 0u;
+    if (has_federatename()) {
+      if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+        federatename_->clear();
+      }
+    }
+    if (has_federatetype()) {
+      if (federatetype_ != &::google::protobuf::internal::kEmptyString) {
+        federatetype_->clear();
+      }
+    }
+    federatestatelength_ = GOOGLE_ULONGLONG(0);
+    federateproxystatelength_ = GOOGLE_ULONGLONG(0);
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateSaveHeader::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 federateHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatehandle_)));
+          set_has_federatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_federateName;
+        break;
+      }
+
+      // required string federateName = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_federateName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_federatename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->federatename().data(), this->federatename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_federateType;
+        break;
+      }
+
+      // required string federateType = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_federateType:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_federatetype()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->federatetype().data(), this->federatetype().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_federateStateLength;
+        break;
+      }
+
+      // required uint64 federateStateLength = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_federateStateLength:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &federatestatelength_)));
+          set_has_federatestatelength();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(40)) goto parse_federateProxyStateLength;
+        break;
+      }
+
+      // required uint64 federateProxyStateLength = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_federateProxyStateLength:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &federateproxystatelength_)));
+          set_has_federateproxystatelength();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateSaveHeader::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 federateHandle = 1;
+  if (has_federatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->federatehandle(), output);
+  }
+
+  // required string federateName = 2;
+  if (has_federatename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatename().data(), this->federatename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->federatename(), output);
+  }
+
+  // required string federateType = 3;
+  if (has_federatetype()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatetype().data(), this->federatetype().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      3, this->federatetype(), output);
+  }
+
+  // required uint64 federateStateLength = 4;
+  if (has_federatestatelength()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(4, this->federatestatelength(), output);
+  }
+
+  // required uint64 federateProxyStateLength = 5;
+  if (has_federateproxystatelength()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(5, this->federateproxystatelength(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateSaveHeader::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 federateHandle = 1;
+  if (has_federatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->federatehandle(), target);
+  }
+
+  // required string federateName = 2;
+  if (has_federatename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatename().data(), this->federatename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->federatename(), target);
+  }
+
+  // required string federateType = 3;
+  if (has_federatetype()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatetype().data(), this->federatetype().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        3, this->federatetype(), target);
+  }
+
+  // required uint64 federateStateLength = 4;
+  if (has_federatestatelength()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(4, this->federatestatelength(), target);
+  }
+
+  // required uint64 federateProxyStateLength = 5;
+  if (has_federateproxystatelength()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(5, this->federateproxystatelength(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateSaveHeader::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 federateHandle = 1;
+    if (has_federatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatehandle());
+    }
+
+    // required string federateName = 2;
+    if (has_federatename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->federatename());
+    }
+
+    // required string federateType = 3;
+    if (has_federatetype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->federatetype());
+    }
+
+    // required uint64 federateStateLength = 4;
+    if (has_federatestatelength()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->federatestatelength());
+    }
+
+    // required uint64 federateProxyStateLength = 5;
+    if (has_federateproxystatelength()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->federateproxystatelength());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateSaveHeader::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateSaveHeader* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateSaveHeader*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateSaveHeader::MergeFrom(const FederateSaveHeader& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_federatehandle()) {
+      set_federatehandle(from.federatehandle());
+    }
+    if (from.has_federatename()) {
+      set_federatename(from.federatename());
+    }
+    if (from.has_federatetype()) {
+      set_federatetype(from.federatetype());
+    }
+    if (from.has_federatestatelength()) {
+      set_federatestatelength(from.federatestatelength());
+    }
+    if (from.has_federateproxystatelength()) {
+      set_federateproxystatelength(from.federateproxystatelength());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateSaveHeader::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateSaveHeader::CopyFrom(const FederateSaveHeader& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateSaveHeader::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000001f) != 0x0000001f) return false;
+
+  return true;
+}
+
+void FederateSaveHeader::Swap(FederateSaveHeader* other) {
+  if (other != this) {
+    std::swap(federatehandle_, other->federatehandle_);
+    std::swap(federatename_, other->federatename_);
+    std::swap(federatetype_, other->federatetype_);
+    std::swap(federatestatelength_, other->federatestatelength_);
+    std::swap(federateproxystatelength_, other->federateproxystatelength_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateSaveHeader::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateSaveHeader_descriptor_;
+  metadata.reflection = FederateSaveHeader_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::kObjectInstanceHandleFieldNumber;
+const int HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::kMappingFieldNumber;
+#endif  // !_MSC_VER
+
+HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::HLA13RTIAmbassadorState_ObjectInstanceHandleMapping()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::HLA13RTIAmbassadorState_ObjectInstanceHandleMapping(const HLA13RTIAmbassadorState_ObjectInstanceHandleMapping& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  mapping_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::~HLA13RTIAmbassadorState_ObjectInstanceHandleMapping() {
+  SharedDtor();
+}
+
+void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return HLA13RTIAmbassadorState_ObjectInstanceHandleMapping_descriptor_;
+}
+
+const HLA13RTIAmbassadorState_ObjectInstanceHandleMapping& HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+HLA13RTIAmbassadorState_ObjectInstanceHandleMapping* HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::default_instance_ = NULL;
+
+HLA13RTIAmbassadorState_ObjectInstanceHandleMapping* HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::New() const {
+  return new HLA13RTIAmbassadorState_ObjectInstanceHandleMapping;
+}
+
+void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    mapping_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_mapping;
+        break;
+      }
+
+      // required uint32 mapping = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_mapping:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &mapping_)));
+          set_has_mapping();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // required uint32 mapping = 2;
+  if (has_mapping()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->mapping(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // required uint32 mapping = 2;
+  if (has_mapping()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->mapping(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // required uint32 mapping = 2;
+    if (has_mapping()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->mapping());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const HLA13RTIAmbassadorState_ObjectInstanceHandleMapping* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const HLA13RTIAmbassadorState_ObjectInstanceHandleMapping*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::MergeFrom(const HLA13RTIAmbassadorState_ObjectInstanceHandleMapping& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_mapping()) {
+      set_mapping(from.mapping());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::CopyFrom(const HLA13RTIAmbassadorState_ObjectInstanceHandleMapping& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::Swap(HLA13RTIAmbassadorState_ObjectInstanceHandleMapping* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(mapping_, other->mapping_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = HLA13RTIAmbassadorState_ObjectInstanceHandleMapping_descriptor_;
+  metadata.reflection = HLA13RTIAmbassadorState_ObjectInstanceHandleMapping_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::kUpperFieldNumber;
+const int HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::kLowerFieldNumber;
+#endif  // !_MSC_VER
+
+HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::InitAsDefaultInstance() {
+}
+
+HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds(const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::SharedCtor() {
+  _cached_size_ = 0;
+  upper_ = GOOGLE_ULONGLONG(0);
+  lower_ = GOOGLE_ULONGLONG(0);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::~HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds() {
+  SharedDtor();
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds_descriptor_;
+}
+
+const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds& HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds* HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::default_instance_ = NULL;
+
+HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds* HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::New() const {
+  return new HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds;
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    upper_ = GOOGLE_ULONGLONG(0);
+    lower_ = GOOGLE_ULONGLONG(0);
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 upper = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &upper_)));
+          set_has_upper();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_lower;
+        break;
+      }
+
+      // required uint64 lower = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_lower:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &lower_)));
+          set_has_lower();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 upper = 1;
+  if (has_upper()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->upper(), output);
+  }
+
+  // required uint64 lower = 2;
+  if (has_lower()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(2, this->lower(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 upper = 1;
+  if (has_upper()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->upper(), target);
+  }
+
+  // required uint64 lower = 2;
+  if (has_lower()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(2, this->lower(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 upper = 1;
+    if (has_upper()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->upper());
+    }
+
+    // required uint64 lower = 2;
+    if (has_lower()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->lower());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::MergeFrom(const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_upper()) {
+      set_upper(from.upper());
+    }
+    if (from.has_lower()) {
+      set_lower(from.lower());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::CopyFrom(const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::Swap(HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds* other) {
+  if (other != this) {
+    std::swap(upper_, other->upper_);
+    std::swap(lower_, other->lower_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds_descriptor_;
+  metadata.reflection = HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::kRegionHandleFieldNumber;
+const int HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::kRangeBoundsFieldNumber;
+#endif  // !_MSC_VER
+
+HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::InitAsDefaultInstance() {
+  regionhandle_ = const_cast< ::ohla::rti::proto::RegionHandle*>(&::ohla::rti::proto::RegionHandle::default_instance());
+}
+
+HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState(const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::SharedCtor() {
+  _cached_size_ = 0;
+  regionhandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::~HLA13RTIAmbassadorState_HLA13RegionState_ExtentState() {
+  SharedDtor();
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::SharedDtor() {
+  if (this != default_instance_) {
+    delete regionhandle_;
+  }
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_descriptor_;
+}
+
+const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState& HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+HLA13RTIAmbassadorState_HLA13RegionState_ExtentState* HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::default_instance_ = NULL;
+
+HLA13RTIAmbassadorState_HLA13RegionState_ExtentState* HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::New() const {
+  return new HLA13RTIAmbassadorState_HLA13RegionState_ExtentState;
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_regionhandle()) {
+      if (regionhandle_ != NULL) regionhandle_->::ohla::rti::proto::RegionHandle::Clear();
+    }
+  }
+  rangebounds_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_regionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_rangeBounds;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState.ExtentState.RangeBounds rangeBounds = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_rangeBounds:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_rangebounds()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_rangeBounds;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  if (has_regionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->regionhandle(), output);
+  }
+
+  // repeated .ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState.ExtentState.RangeBounds rangeBounds = 2;
+  for (int i = 0; i < this->rangebounds_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->rangebounds(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  if (has_regionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->regionhandle(), target);
+  }
+
+  // repeated .ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState.ExtentState.RangeBounds rangeBounds = 2;
+  for (int i = 0; i < this->rangebounds_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->rangebounds(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+    if (has_regionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->regionhandle());
+    }
+
+  }
+  // repeated .ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState.ExtentState.RangeBounds rangeBounds = 2;
+  total_size += 1 * this->rangebounds_size();
+  for (int i = 0; i < this->rangebounds_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->rangebounds(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::MergeFrom(const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  rangebounds_.MergeFrom(from.rangebounds_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_regionhandle()) {
+      mutable_regionhandle()->::ohla::rti::proto::RegionHandle::MergeFrom(from.regionhandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::CopyFrom(const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_regionhandle()) {
+    if (!this->regionhandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < rangebounds_size(); i++) {
+    if (!this->rangebounds(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::Swap(HLA13RTIAmbassadorState_HLA13RegionState_ExtentState* other) {
+  if (other != this) {
+    std::swap(regionhandle_, other->regionhandle_);
+    rangebounds_.Swap(&other->rangebounds_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_descriptor_;
+  metadata.reflection = HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int HLA13RTIAmbassadorState_HLA13RegionState::kTokenFieldNumber;
+const int HLA13RTIAmbassadorState_HLA13RegionState::kRoutingSpaceHandleFieldNumber;
+const int HLA13RTIAmbassadorState_HLA13RegionState::kExtentStatesFieldNumber;
+#endif  // !_MSC_VER
+
+HLA13RTIAmbassadorState_HLA13RegionState::HLA13RTIAmbassadorState_HLA13RegionState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState::InitAsDefaultInstance() {
+}
+
+HLA13RTIAmbassadorState_HLA13RegionState::HLA13RTIAmbassadorState_HLA13RegionState(const HLA13RTIAmbassadorState_HLA13RegionState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState::SharedCtor() {
+  _cached_size_ = 0;
+  token_ = 0u;
+  routingspacehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+HLA13RTIAmbassadorState_HLA13RegionState::~HLA13RTIAmbassadorState_HLA13RegionState() {
+  SharedDtor();
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* HLA13RTIAmbassadorState_HLA13RegionState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return HLA13RTIAmbassadorState_HLA13RegionState_descriptor_;
+}
+
+const HLA13RTIAmbassadorState_HLA13RegionState& HLA13RTIAmbassadorState_HLA13RegionState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+HLA13RTIAmbassadorState_HLA13RegionState* HLA13RTIAmbassadorState_HLA13RegionState::default_instance_ = NULL;
+
+HLA13RTIAmbassadorState_HLA13RegionState* HLA13RTIAmbassadorState_HLA13RegionState::New() const {
+  return new HLA13RTIAmbassadorState_HLA13RegionState;
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    token_ = 0u;
+    routingspacehandle_ = 0u;
+  }
+  extentstates_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool HLA13RTIAmbassadorState_HLA13RegionState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 token = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &token_)));
+          set_has_token();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_routingSpaceHandle;
+        break;
+      }
+
+      // required uint32 routingSpaceHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_routingSpaceHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &routingspacehandle_)));
+          set_has_routingspacehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_extentStates;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState.ExtentState extentStates = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_extentStates:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_extentstates()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_extentStates;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 token = 1;
+  if (has_token()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->token(), output);
+  }
+
+  // required uint32 routingSpaceHandle = 2;
+  if (has_routingspacehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->routingspacehandle(), output);
+  }
+
+  // repeated .ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState.ExtentState extentStates = 3;
+  for (int i = 0; i < this->extentstates_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->extentstates(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* HLA13RTIAmbassadorState_HLA13RegionState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 token = 1;
+  if (has_token()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->token(), target);
+  }
+
+  // required uint32 routingSpaceHandle = 2;
+  if (has_routingspacehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->routingspacehandle(), target);
+  }
+
+  // repeated .ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState.ExtentState extentStates = 3;
+  for (int i = 0; i < this->extentstates_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->extentstates(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int HLA13RTIAmbassadorState_HLA13RegionState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 token = 1;
+    if (has_token()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->token());
+    }
+
+    // required uint32 routingSpaceHandle = 2;
+    if (has_routingspacehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->routingspacehandle());
+    }
+
+  }
+  // repeated .ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState.ExtentState extentStates = 3;
+  total_size += 1 * this->extentstates_size();
+  for (int i = 0; i < this->extentstates_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->extentstates(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const HLA13RTIAmbassadorState_HLA13RegionState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const HLA13RTIAmbassadorState_HLA13RegionState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState::MergeFrom(const HLA13RTIAmbassadorState_HLA13RegionState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  extentstates_.MergeFrom(from.extentstates_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_token()) {
+      set_token(from.token());
+    }
+    if (from.has_routingspacehandle()) {
+      set_routingspacehandle(from.routingspacehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState::CopyFrom(const HLA13RTIAmbassadorState_HLA13RegionState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool HLA13RTIAmbassadorState_HLA13RegionState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  for (int i = 0; i < extentstates_size(); i++) {
+    if (!this->extentstates(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void HLA13RTIAmbassadorState_HLA13RegionState::Swap(HLA13RTIAmbassadorState_HLA13RegionState* other) {
+  if (other != this) {
+    std::swap(token_, other->token_);
+    std::swap(routingspacehandle_, other->routingspacehandle_);
+    extentstates_.Swap(&other->extentstates_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata HLA13RTIAmbassadorState_HLA13RegionState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = HLA13RTIAmbassadorState_HLA13RegionState_descriptor_;
+  metadata.reflection = HLA13RTIAmbassadorState_HLA13RegionState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int HLA13RTIAmbassadorState::kNextObjectInstanceHandleFieldNumber;
+const int HLA13RTIAmbassadorState::kNextRegionTokenFieldNumber;
+const int HLA13RTIAmbassadorState::kObjectInstanceHandleMappingCountFieldNumber;
+const int HLA13RTIAmbassadorState::kRegionCountFieldNumber;
+#endif  // !_MSC_VER
+
+HLA13RTIAmbassadorState::HLA13RTIAmbassadorState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void HLA13RTIAmbassadorState::InitAsDefaultInstance() {
+}
+
+HLA13RTIAmbassadorState::HLA13RTIAmbassadorState(const HLA13RTIAmbassadorState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void HLA13RTIAmbassadorState::SharedCtor() {
+  _cached_size_ = 0;
+  nextobjectinstancehandle_ = 0u;
+  nextregiontoken_ = 0u;
+  objectinstancehandlemappingcount_ = 0u;
+  regioncount_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+HLA13RTIAmbassadorState::~HLA13RTIAmbassadorState() {
+  SharedDtor();
+}
+
+void HLA13RTIAmbassadorState::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void HLA13RTIAmbassadorState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* HLA13RTIAmbassadorState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return HLA13RTIAmbassadorState_descriptor_;
+}
+
+const HLA13RTIAmbassadorState& HLA13RTIAmbassadorState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+HLA13RTIAmbassadorState* HLA13RTIAmbassadorState::default_instance_ = NULL;
+
+HLA13RTIAmbassadorState* HLA13RTIAmbassadorState::New() const {
+  return new HLA13RTIAmbassadorState;
+}
+
+void HLA13RTIAmbassadorState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    nextobjectinstancehandle_ = 0u;
+    nextregiontoken_ = 0u;
+    objectinstancehandlemappingcount_ = 0u;
+    regioncount_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool HLA13RTIAmbassadorState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 nextObjectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &nextobjectinstancehandle_)));
+          set_has_nextobjectinstancehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_nextRegionToken;
+        break;
+      }
+
+      // required uint32 nextRegionToken = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_nextRegionToken:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &nextregiontoken_)));
+          set_has_nextregiontoken();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_objectInstanceHandleMappingCount;
+        break;
+      }
+
+      // required uint32 objectInstanceHandleMappingCount = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_objectInstanceHandleMappingCount:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectinstancehandlemappingcount_)));
+          set_has_objectinstancehandlemappingcount();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_regionCount;
+        break;
+      }
+
+      // required uint32 regionCount = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_regionCount:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &regioncount_)));
+          set_has_regioncount();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void HLA13RTIAmbassadorState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 nextObjectInstanceHandle = 1;
+  if (has_nextobjectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->nextobjectinstancehandle(), output);
+  }
+
+  // required uint32 nextRegionToken = 2;
+  if (has_nextregiontoken()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->nextregiontoken(), output);
+  }
+
+  // required uint32 objectInstanceHandleMappingCount = 3;
+  if (has_objectinstancehandlemappingcount()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(3, this->objectinstancehandlemappingcount(), output);
+  }
+
+  // required uint32 regionCount = 4;
+  if (has_regioncount()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(4, this->regioncount(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* HLA13RTIAmbassadorState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 nextObjectInstanceHandle = 1;
+  if (has_nextobjectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->nextobjectinstancehandle(), target);
+  }
+
+  // required uint32 nextRegionToken = 2;
+  if (has_nextregiontoken()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->nextregiontoken(), target);
+  }
+
+  // required uint32 objectInstanceHandleMappingCount = 3;
+  if (has_objectinstancehandlemappingcount()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(3, this->objectinstancehandlemappingcount(), target);
+  }
+
+  // required uint32 regionCount = 4;
+  if (has_regioncount()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(4, this->regioncount(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int HLA13RTIAmbassadorState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 nextObjectInstanceHandle = 1;
+    if (has_nextobjectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->nextobjectinstancehandle());
+    }
+
+    // required uint32 nextRegionToken = 2;
+    if (has_nextregiontoken()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->nextregiontoken());
+    }
+
+    // required uint32 objectInstanceHandleMappingCount = 3;
+    if (has_objectinstancehandlemappingcount()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectinstancehandlemappingcount());
+    }
+
+    // required uint32 regionCount = 4;
+    if (has_regioncount()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->regioncount());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void HLA13RTIAmbassadorState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const HLA13RTIAmbassadorState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const HLA13RTIAmbassadorState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void HLA13RTIAmbassadorState::MergeFrom(const HLA13RTIAmbassadorState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_nextobjectinstancehandle()) {
+      set_nextobjectinstancehandle(from.nextobjectinstancehandle());
+    }
+    if (from.has_nextregiontoken()) {
+      set_nextregiontoken(from.nextregiontoken());
+    }
+    if (from.has_objectinstancehandlemappingcount()) {
+      set_objectinstancehandlemappingcount(from.objectinstancehandlemappingcount());
+    }
+    if (from.has_regioncount()) {
+      set_regioncount(from.regioncount());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void HLA13RTIAmbassadorState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void HLA13RTIAmbassadorState::CopyFrom(const HLA13RTIAmbassadorState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool HLA13RTIAmbassadorState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000000f) != 0x0000000f) return false;
+
+  return true;
+}
+
+void HLA13RTIAmbassadorState::Swap(HLA13RTIAmbassadorState* other) {
+  if (other != this) {
+    std::swap(nextobjectinstancehandle_, other->nextobjectinstancehandle_);
+    std::swap(nextregiontoken_, other->nextregiontoken_);
+    std::swap(objectinstancehandlemappingcount_, other->objectinstancehandlemappingcount_);
+    std::swap(regioncount_, other->regioncount_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata HLA13RTIAmbassadorState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = HLA13RTIAmbassadorState_descriptor_;
+  metadata.reflection = HLA13RTIAmbassadorState_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+const ::google::protobuf::EnumDescriptor* FederateState_FederateSynchonizationPointState_State_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateSynchonizationPointState_State_descriptor_;
+}
+bool FederateState_FederateSynchonizationPointState_State_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const FederateState_FederateSynchonizationPointState_State FederateState_FederateSynchonizationPointState::MOVING_TO_SYNCH_POINT;
+const FederateState_FederateSynchonizationPointState_State FederateState_FederateSynchonizationPointState::WAITING_FOR_REST_OF_FEDERATION_TO_SYNCHRONIZE;
+const FederateState_FederateSynchonizationPointState_State FederateState_FederateSynchonizationPointState::State_MIN;
+const FederateState_FederateSynchonizationPointState_State FederateState_FederateSynchonizationPointState::State_MAX;
+const int FederateState_FederateSynchonizationPointState::State_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int FederateState_FederateSynchonizationPointState::kLabelFieldNumber;
+const int FederateState_FederateSynchonizationPointState::kTagFieldNumber;
+const int FederateState_FederateSynchonizationPointState::kStateFieldNumber;
+#endif  // !_MSC_VER
+
+FederateState_FederateSynchonizationPointState::FederateState_FederateSynchonizationPointState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateState_FederateSynchonizationPointState::InitAsDefaultInstance() {
+}
+
+FederateState_FederateSynchonizationPointState::FederateState_FederateSynchonizationPointState(const FederateState_FederateSynchonizationPointState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateState_FederateSynchonizationPointState::SharedCtor() {
+  _cached_size_ = 0;
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  state_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateState_FederateSynchonizationPointState::~FederateState_FederateSynchonizationPointState() {
+  SharedDtor();
+}
+
+void FederateState_FederateSynchonizationPointState::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FederateState_FederateSynchonizationPointState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateState_FederateSynchonizationPointState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateSynchonizationPointState_descriptor_;
+}
+
+const FederateState_FederateSynchonizationPointState& FederateState_FederateSynchonizationPointState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateState_FederateSynchonizationPointState* FederateState_FederateSynchonizationPointState::default_instance_ = NULL;
+
+FederateState_FederateSynchonizationPointState* FederateState_FederateSynchonizationPointState::New() const {
+  return new FederateState_FederateSynchonizationPointState;
+}
+
+void FederateState_FederateSynchonizationPointState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+    state_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateState_FederateSynchonizationPointState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string label = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_state;
+        break;
+      }
+
+      // required .ohla.rti.proto.FederateState.FederateSynchonizationPointState.State state = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_state:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::FederateState_FederateSynchonizationPointState_State_IsValid(value)) {
+            set_state(static_cast< ::ohla::rti::proto::FederateState_FederateSynchonizationPointState_State >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(3, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateState_FederateSynchonizationPointState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->label(), output);
+  }
+
+  // optional bytes tag = 2;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      2, this->tag(), output);
+  }
+
+  // required .ohla.rti.proto.FederateState.FederateSynchonizationPointState.State state = 3;
+  if (has_state()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      3, this->state(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateState_FederateSynchonizationPointState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->label(), target);
+  }
+
+  // optional bytes tag = 2;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        2, this->tag(), target);
+  }
+
+  // required .ohla.rti.proto.FederateState.FederateSynchonizationPointState.State state = 3;
+  if (has_state()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      3, this->state(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateState_FederateSynchonizationPointState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string label = 1;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+    // optional bytes tag = 2;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+    // required .ohla.rti.proto.FederateState.FederateSynchonizationPointState.State state = 3;
+    if (has_state()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->state());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateState_FederateSynchonizationPointState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateState_FederateSynchonizationPointState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateState_FederateSynchonizationPointState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateState_FederateSynchonizationPointState::MergeFrom(const FederateState_FederateSynchonizationPointState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+    if (from.has_state()) {
+      set_state(from.state());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateState_FederateSynchonizationPointState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateState_FederateSynchonizationPointState::CopyFrom(const FederateState_FederateSynchonizationPointState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateState_FederateSynchonizationPointState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000005) != 0x00000005) return false;
+
+  return true;
+}
+
+void FederateState_FederateSynchonizationPointState::Swap(FederateState_FederateSynchonizationPointState* other) {
+  if (other != this) {
+    std::swap(label_, other->label_);
+    std::swap(tag_, other->tag_);
+    std::swap(state_, other->state_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateState_FederateSynchonizationPointState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateState_FederateSynchonizationPointState_descriptor_;
+  metadata.reflection = FederateState_FederateSynchonizationPointState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::kAttributeHandleFieldNumber;
+const int FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::kTransportationTypeHandleFieldNumber;
+const int FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::kOrderTypeFieldNumber;
+const int FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::kDivestingFieldNumber;
+#endif  // !_MSC_VER
+
+FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::InitAsDefaultInstance() {
+}
+
+FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState(const FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::SharedCtor() {
+  _cached_size_ = 0;
+  attributehandle_ = 0u;
+  transportationtypehandle_ = 0u;
+  ordertype_ = 1;
+  divesting_ = false;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::~FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState() {
+  SharedDtor();
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState_descriptor_;
+}
+
+const FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState& FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState* FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::default_instance_ = NULL;
+
+FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState* FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::New() const {
+  return new FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState;
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    attributehandle_ = 0u;
+    transportationtypehandle_ = 0u;
+    ordertype_ = 1;
+    divesting_ = false;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 attributeHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &attributehandle_)));
+          set_has_attributehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_transportationTypeHandle;
+        break;
+      }
+
+      // required uint32 transportationTypeHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_transportationTypeHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &transportationtypehandle_)));
+          set_has_transportationtypehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_orderType;
+        break;
+      }
+
+      // required .ohla.rti.proto.OrderType orderType = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_orderType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::OrderType_IsValid(value)) {
+            set_ordertype(static_cast< ::ohla::rti::proto::OrderType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(3, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_divesting;
+        break;
+      }
+
+      // required bool divesting = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_divesting:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &divesting_)));
+          set_has_divesting();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 attributeHandle = 1;
+  if (has_attributehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->attributehandle(), output);
+  }
+
+  // required uint32 transportationTypeHandle = 2;
+  if (has_transportationtypehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->transportationtypehandle(), output);
+  }
+
+  // required .ohla.rti.proto.OrderType orderType = 3;
+  if (has_ordertype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      3, this->ordertype(), output);
+  }
+
+  // required bool divesting = 4;
+  if (has_divesting()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(4, this->divesting(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 attributeHandle = 1;
+  if (has_attributehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->attributehandle(), target);
+  }
+
+  // required uint32 transportationTypeHandle = 2;
+  if (has_transportationtypehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->transportationtypehandle(), target);
+  }
+
+  // required .ohla.rti.proto.OrderType orderType = 3;
+  if (has_ordertype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      3, this->ordertype(), target);
+  }
+
+  // required bool divesting = 4;
+  if (has_divesting()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(4, this->divesting(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 attributeHandle = 1;
+    if (has_attributehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->attributehandle());
+    }
+
+    // required uint32 transportationTypeHandle = 2;
+    if (has_transportationtypehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->transportationtypehandle());
+    }
+
+    // required .ohla.rti.proto.OrderType orderType = 3;
+    if (has_ordertype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->ordertype());
+    }
+
+    // required bool divesting = 4;
+    if (has_divesting()) {
+      total_size += 1 + 1;
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::MergeFrom(const FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_attributehandle()) {
+      set_attributehandle(from.attributehandle());
+    }
+    if (from.has_transportationtypehandle()) {
+      set_transportationtypehandle(from.transportationtypehandle());
+    }
+    if (from.has_ordertype()) {
+      set_ordertype(from.ordertype());
+    }
+    if (from.has_divesting()) {
+      set_divesting(from.divesting());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::CopyFrom(const FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000000f) != 0x0000000f) return false;
+
+  return true;
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::Swap(FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState* other) {
+  if (other != this) {
+    std::swap(attributehandle_, other->attributehandle_);
+    std::swap(transportationtypehandle_, other->transportationtypehandle_);
+    std::swap(ordertype_, other->ordertype_);
+    std::swap(divesting_, other->divesting_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState_descriptor_;
+  metadata.reflection = FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederateState_FederateObjectManagerState_FederateObjectInstanceState::kProducingFederateHandleFieldNumber;
+const int FederateState_FederateObjectManagerState_FederateObjectInstanceState::kObjectInstanceHandleFieldNumber;
+const int FederateState_FederateObjectManagerState_FederateObjectInstanceState::kObjectClassHandleFieldNumber;
+const int FederateState_FederateObjectManagerState_FederateObjectInstanceState::kObjectInstanceNameFieldNumber;
+const int FederateState_FederateObjectManagerState_FederateObjectInstanceState::kAttributeInstanceStatesFieldNumber;
+const int FederateState_FederateObjectManagerState_FederateObjectInstanceState::kAttributeHandlesBeingAcquiredFieldNumber;
+const int FederateState_FederateObjectManagerState_FederateObjectInstanceState::kAttributeHandlesBeingAcquiredIfAvailableFieldNumber;
+#endif  // !_MSC_VER
+
+FederateState_FederateObjectManagerState_FederateObjectInstanceState::FederateState_FederateObjectManagerState_FederateObjectInstanceState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+FederateState_FederateObjectManagerState_FederateObjectInstanceState::FederateState_FederateObjectManagerState_FederateObjectInstanceState(const FederateState_FederateObjectManagerState_FederateObjectInstanceState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState::SharedCtor() {
+  _cached_size_ = 0;
+  producingfederatehandle_ = 0u;
+  objectinstancehandle_ = NULL;
+  objectclasshandle_ = 0u;
+  objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateState_FederateObjectManagerState_FederateObjectInstanceState::~FederateState_FederateObjectManagerState_FederateObjectInstanceState() {
+  SharedDtor();
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState::SharedDtor() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateState_FederateObjectManagerState_FederateObjectInstanceState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateObjectManagerState_FederateObjectInstanceState_descriptor_;
+}
+
+const FederateState_FederateObjectManagerState_FederateObjectInstanceState& FederateState_FederateObjectManagerState_FederateObjectInstanceState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateState_FederateObjectManagerState_FederateObjectInstanceState* FederateState_FederateObjectManagerState_FederateObjectInstanceState::default_instance_ = NULL;
+
+FederateState_FederateObjectManagerState_FederateObjectInstanceState* FederateState_FederateObjectManagerState_FederateObjectInstanceState::New() const {
+  return new FederateState_FederateObjectManagerState_FederateObjectInstanceState;
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    producingfederatehandle_ = 0u;
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    objectclasshandle_ = 0u;
+    if (has_objectinstancename()) {
+      if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+        objectinstancename_->clear();
+      }
+    }
+  }
+  attributeinstancestates_.Clear();
+  attributehandlesbeingacquired_.Clear();
+  attributehandlesbeingacquiredifavailable_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateState_FederateObjectManagerState_FederateObjectInstanceState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 producingFederateHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &producingfederatehandle_)));
+          set_has_producingfederatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_objectInstanceHandle;
+        break;
+      }
+
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceHandle:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_objectClassHandle;
+        break;
+      }
+
+      // required uint32 objectClassHandle = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_objectClassHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_objectInstanceName;
+        break;
+      }
+
+      // required string objectInstanceName = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_objectinstancename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancename().data(), this->objectinstancename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(42)) goto parse_attributeInstanceStates;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.FederateState.FederateObjectManagerState.FederateObjectInstanceState.FederateAttributeInstanceState attributeInstanceStates = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_attributeInstanceStates:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_attributeinstancestates()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(42)) goto parse_attributeInstanceStates;
+        if (input->ExpectTag(48)) goto parse_attributeHandlesBeingAcquired;
+        break;
+      }
+
+      // repeated uint32 attributeHandlesBeingAcquired = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandlesBeingAcquired:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 48, input, this->mutable_attributehandlesbeingacquired())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandlesbeingacquired())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(48)) goto parse_attributeHandlesBeingAcquired;
+        if (input->ExpectTag(56)) goto parse_attributeHandlesBeingAcquiredIfAvailable;
+        break;
+      }
+
+      // repeated uint32 attributeHandlesBeingAcquiredIfAvailable = 7;
+      case 7: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandlesBeingAcquiredIfAvailable:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 56, input, this->mutable_attributehandlesbeingacquiredifavailable())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandlesbeingacquiredifavailable())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(56)) goto parse_attributeHandlesBeingAcquiredIfAvailable;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 producingFederateHandle = 1;
+  if (has_producingfederatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->producingfederatehandle(), output);
+  }
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->objectinstancehandle(), output);
+  }
+
+  // required uint32 objectClassHandle = 3;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(3, this->objectclasshandle(), output);
+  }
+
+  // required string objectInstanceName = 4;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      4, this->objectinstancename(), output);
+  }
+
+  // repeated .ohla.rti.proto.FederateState.FederateObjectManagerState.FederateObjectInstanceState.FederateAttributeInstanceState attributeInstanceStates = 5;
+  for (int i = 0; i < this->attributeinstancestates_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      5, this->attributeinstancestates(i), output);
+  }
+
+  // repeated uint32 attributeHandlesBeingAcquired = 6;
+  for (int i = 0; i < this->attributehandlesbeingacquired_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      6, this->attributehandlesbeingacquired(i), output);
+  }
+
+  // repeated uint32 attributeHandlesBeingAcquiredIfAvailable = 7;
+  for (int i = 0; i < this->attributehandlesbeingacquiredifavailable_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      7, this->attributehandlesbeingacquiredifavailable(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateState_FederateObjectManagerState_FederateObjectInstanceState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 producingFederateHandle = 1;
+  if (has_producingfederatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->producingfederatehandle(), target);
+  }
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->objectinstancehandle(), target);
+  }
+
+  // required uint32 objectClassHandle = 3;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(3, this->objectclasshandle(), target);
+  }
+
+  // required string objectInstanceName = 4;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        4, this->objectinstancename(), target);
+  }
+
+  // repeated .ohla.rti.proto.FederateState.FederateObjectManagerState.FederateObjectInstanceState.FederateAttributeInstanceState attributeInstanceStates = 5;
+  for (int i = 0; i < this->attributeinstancestates_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        5, this->attributeinstancestates(i), target);
+  }
+
+  // repeated uint32 attributeHandlesBeingAcquired = 6;
+  for (int i = 0; i < this->attributehandlesbeingacquired_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(6, this->attributehandlesbeingacquired(i), target);
+  }
+
+  // repeated uint32 attributeHandlesBeingAcquiredIfAvailable = 7;
+  for (int i = 0; i < this->attributehandlesbeingacquiredifavailable_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(7, this->attributehandlesbeingacquiredifavailable(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateState_FederateObjectManagerState_FederateObjectInstanceState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 producingFederateHandle = 1;
+    if (has_producingfederatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->producingfederatehandle());
+    }
+
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // required uint32 objectClassHandle = 3;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+    // required string objectInstanceName = 4;
+    if (has_objectinstancename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->objectinstancename());
+    }
+
+  }
+  // repeated .ohla.rti.proto.FederateState.FederateObjectManagerState.FederateObjectInstanceState.FederateAttributeInstanceState attributeInstanceStates = 5;
+  total_size += 1 * this->attributeinstancestates_size();
+  for (int i = 0; i < this->attributeinstancestates_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->attributeinstancestates(i));
+  }
+
+  // repeated uint32 attributeHandlesBeingAcquired = 6;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandlesbeingacquired_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandlesbeingacquired(i));
+    }
+    total_size += 1 * this->attributehandlesbeingacquired_size() + data_size;
+  }
+
+  // repeated uint32 attributeHandlesBeingAcquiredIfAvailable = 7;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandlesbeingacquiredifavailable_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandlesbeingacquiredifavailable(i));
+    }
+    total_size += 1 * this->attributehandlesbeingacquiredifavailable_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateState_FederateObjectManagerState_FederateObjectInstanceState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateState_FederateObjectManagerState_FederateObjectInstanceState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState::MergeFrom(const FederateState_FederateObjectManagerState_FederateObjectInstanceState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributeinstancestates_.MergeFrom(from.attributeinstancestates_);
+  attributehandlesbeingacquired_.MergeFrom(from.attributehandlesbeingacquired_);
+  attributehandlesbeingacquiredifavailable_.MergeFrom(from.attributehandlesbeingacquiredifavailable_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_producingfederatehandle()) {
+      set_producingfederatehandle(from.producingfederatehandle());
+    }
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+    if (from.has_objectinstancename()) {
+      set_objectinstancename(from.objectinstancename());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState::CopyFrom(const FederateState_FederateObjectManagerState_FederateObjectInstanceState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateState_FederateObjectManagerState_FederateObjectInstanceState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000000f) != 0x0000000f) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < attributeinstancestates_size(); i++) {
+    if (!this->attributeinstancestates(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FederateState_FederateObjectManagerState_FederateObjectInstanceState::Swap(FederateState_FederateObjectManagerState_FederateObjectInstanceState* other) {
+  if (other != this) {
+    std::swap(producingfederatehandle_, other->producingfederatehandle_);
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    std::swap(objectinstancename_, other->objectinstancename_);
+    attributeinstancestates_.Swap(&other->attributeinstancestates_);
+    attributehandlesbeingacquired_.Swap(&other->attributehandlesbeingacquired_);
+    attributehandlesbeingacquiredifavailable_.Swap(&other->attributehandlesbeingacquiredifavailable_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateState_FederateObjectManagerState_FederateObjectInstanceState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateState_FederateObjectManagerState_FederateObjectInstanceState_descriptor_;
+  metadata.reflection = FederateState_FederateObjectManagerState_FederateObjectInstanceState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederateState_FederateObjectManagerState::kPublishedObjectClassesFieldNumber;
+const int FederateState_FederateObjectManagerState::kPublishedInteractionClassesFieldNumber;
+const int FederateState_FederateObjectManagerState::kReservedObjectInstanceNamesFieldNumber;
+const int FederateState_FederateObjectManagerState::kObjectInstanceNamesBeingReservedFieldNumber;
+const int FederateState_FederateObjectManagerState::kNextObjectInstanceHandleFieldNumber;
+const int FederateState_FederateObjectManagerState::kObjectInstanceStateCountFieldNumber;
+#endif  // !_MSC_VER
+
+FederateState_FederateObjectManagerState::FederateState_FederateObjectManagerState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateState_FederateObjectManagerState::InitAsDefaultInstance() {
+}
+
+FederateState_FederateObjectManagerState::FederateState_FederateObjectManagerState(const FederateState_FederateObjectManagerState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateState_FederateObjectManagerState::SharedCtor() {
+  _cached_size_ = 0;
+  nextobjectinstancehandle_ = 0u;
+  objectinstancestatecount_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateState_FederateObjectManagerState::~FederateState_FederateObjectManagerState() {
+  SharedDtor();
+}
+
+void FederateState_FederateObjectManagerState::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederateState_FederateObjectManagerState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateState_FederateObjectManagerState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateObjectManagerState_descriptor_;
+}
+
+const FederateState_FederateObjectManagerState& FederateState_FederateObjectManagerState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateState_FederateObjectManagerState* FederateState_FederateObjectManagerState::default_instance_ = NULL;
+
+FederateState_FederateObjectManagerState* FederateState_FederateObjectManagerState::New() const {
+  return new FederateState_FederateObjectManagerState;
+}
+
+void FederateState_FederateObjectManagerState::Clear() {
+  if (_has_bits_[4 / 32] & (0xffu << (4 % 32))) {
+    nextobjectinstancehandle_ = 0u;
+    objectinstancestatecount_ = 0u;
+  }
+  publishedobjectclasses_.Clear();
+  publishedinteractionclasses_.Clear();
+  reservedobjectinstancenames_.Clear();
+  objectinstancenamesbeingreserved_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateState_FederateObjectManagerState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .ohla.rti.proto.PublishedObjectClass publishedObjectClasses = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_publishedObjectClasses:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_publishedobjectclasses()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_publishedObjectClasses;
+        if (input->ExpectTag(16)) goto parse_publishedInteractionClasses;
+        break;
+      }
+
+      // repeated uint32 publishedInteractionClasses = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_publishedInteractionClasses:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_publishedinteractionclasses())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_publishedinteractionclasses())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_publishedInteractionClasses;
+        if (input->ExpectTag(26)) goto parse_reservedObjectInstanceNames;
+        break;
+      }
+
+      // repeated string reservedObjectInstanceNames = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_reservedObjectInstanceNames:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_reservedobjectinstancenames()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->reservedobjectinstancenames(this->reservedobjectinstancenames_size() - 1).data(),
+            this->reservedobjectinstancenames(this->reservedobjectinstancenames_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_reservedObjectInstanceNames;
+        if (input->ExpectTag(34)) goto parse_objectInstanceNamesBeingReserved;
+        break;
+      }
+
+      // repeated string objectInstanceNamesBeingReserved = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceNamesBeingReserved:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_objectinstancenamesbeingreserved()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancenamesbeingreserved(this->objectinstancenamesbeingreserved_size() - 1).data(),
+            this->objectinstancenamesbeingreserved(this->objectinstancenamesbeingreserved_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_objectInstanceNamesBeingReserved;
+        if (input->ExpectTag(40)) goto parse_nextObjectInstanceHandle;
+        break;
+      }
+
+      // required uint32 nextObjectInstanceHandle = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_nextObjectInstanceHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &nextobjectinstancehandle_)));
+          set_has_nextobjectinstancehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(48)) goto parse_objectInstanceStateCount;
+        break;
+      }
+
+      // required uint32 objectInstanceStateCount = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_objectInstanceStateCount:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectinstancestatecount_)));
+          set_has_objectinstancestatecount();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateState_FederateObjectManagerState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .ohla.rti.proto.PublishedObjectClass publishedObjectClasses = 1;
+  for (int i = 0; i < this->publishedobjectclasses_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->publishedobjectclasses(i), output);
+  }
+
+  // repeated uint32 publishedInteractionClasses = 2;
+  for (int i = 0; i < this->publishedinteractionclasses_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->publishedinteractionclasses(i), output);
+  }
+
+  // repeated string reservedObjectInstanceNames = 3;
+  for (int i = 0; i < this->reservedobjectinstancenames_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->reservedobjectinstancenames(i).data(), this->reservedobjectinstancenames(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      3, this->reservedobjectinstancenames(i), output);
+  }
+
+  // repeated string objectInstanceNamesBeingReserved = 4;
+  for (int i = 0; i < this->objectinstancenamesbeingreserved_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->objectinstancenamesbeingreserved(i).data(), this->objectinstancenamesbeingreserved(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      4, this->objectinstancenamesbeingreserved(i), output);
+  }
+
+  // required uint32 nextObjectInstanceHandle = 5;
+  if (has_nextobjectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(5, this->nextobjectinstancehandle(), output);
+  }
+
+  // required uint32 objectInstanceStateCount = 6;
+  if (has_objectinstancestatecount()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(6, this->objectinstancestatecount(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateState_FederateObjectManagerState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .ohla.rti.proto.PublishedObjectClass publishedObjectClasses = 1;
+  for (int i = 0; i < this->publishedobjectclasses_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->publishedobjectclasses(i), target);
+  }
+
+  // repeated uint32 publishedInteractionClasses = 2;
+  for (int i = 0; i < this->publishedinteractionclasses_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->publishedinteractionclasses(i), target);
+  }
+
+  // repeated string reservedObjectInstanceNames = 3;
+  for (int i = 0; i < this->reservedobjectinstancenames_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->reservedobjectinstancenames(i).data(), this->reservedobjectinstancenames(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(3, this->reservedobjectinstancenames(i), target);
+  }
+
+  // repeated string objectInstanceNamesBeingReserved = 4;
+  for (int i = 0; i < this->objectinstancenamesbeingreserved_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancenamesbeingreserved(i).data(), this->objectinstancenamesbeingreserved(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(4, this->objectinstancenamesbeingreserved(i), target);
+  }
+
+  // required uint32 nextObjectInstanceHandle = 5;
+  if (has_nextobjectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(5, this->nextobjectinstancehandle(), target);
+  }
+
+  // required uint32 objectInstanceStateCount = 6;
+  if (has_objectinstancestatecount()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(6, this->objectinstancestatecount(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateState_FederateObjectManagerState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[4 / 32] & (0xffu << (4 % 32))) {
+    // required uint32 nextObjectInstanceHandle = 5;
+    if (has_nextobjectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->nextobjectinstancehandle());
+    }
+
+    // required uint32 objectInstanceStateCount = 6;
+    if (has_objectinstancestatecount()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectinstancestatecount());
+    }
+
+  }
+  // repeated .ohla.rti.proto.PublishedObjectClass publishedObjectClasses = 1;
+  total_size += 1 * this->publishedobjectclasses_size();
+  for (int i = 0; i < this->publishedobjectclasses_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->publishedobjectclasses(i));
+  }
+
+  // repeated uint32 publishedInteractionClasses = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->publishedinteractionclasses_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->publishedinteractionclasses(i));
+    }
+    total_size += 1 * this->publishedinteractionclasses_size() + data_size;
+  }
+
+  // repeated string reservedObjectInstanceNames = 3;
+  total_size += 1 * this->reservedobjectinstancenames_size();
+  for (int i = 0; i < this->reservedobjectinstancenames_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->reservedobjectinstancenames(i));
+  }
+
+  // repeated string objectInstanceNamesBeingReserved = 4;
+  total_size += 1 * this->objectinstancenamesbeingreserved_size();
+  for (int i = 0; i < this->objectinstancenamesbeingreserved_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->objectinstancenamesbeingreserved(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateState_FederateObjectManagerState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateState_FederateObjectManagerState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateState_FederateObjectManagerState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateState_FederateObjectManagerState::MergeFrom(const FederateState_FederateObjectManagerState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  publishedobjectclasses_.MergeFrom(from.publishedobjectclasses_);
+  publishedinteractionclasses_.MergeFrom(from.publishedinteractionclasses_);
+  reservedobjectinstancenames_.MergeFrom(from.reservedobjectinstancenames_);
+  objectinstancenamesbeingreserved_.MergeFrom(from.objectinstancenamesbeingreserved_);
+  if (from._has_bits_[4 / 32] & (0xffu << (4 % 32))) {
+    if (from.has_nextobjectinstancehandle()) {
+      set_nextobjectinstancehandle(from.nextobjectinstancehandle());
+    }
+    if (from.has_objectinstancestatecount()) {
+      set_objectinstancestatecount(from.objectinstancestatecount());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateState_FederateObjectManagerState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateState_FederateObjectManagerState::CopyFrom(const FederateState_FederateObjectManagerState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateState_FederateObjectManagerState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000030) != 0x00000030) return false;
+
+  for (int i = 0; i < publishedobjectclasses_size(); i++) {
+    if (!this->publishedobjectclasses(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FederateState_FederateObjectManagerState::Swap(FederateState_FederateObjectManagerState* other) {
+  if (other != this) {
+    publishedobjectclasses_.Swap(&other->publishedobjectclasses_);
+    publishedinteractionclasses_.Swap(&other->publishedinteractionclasses_);
+    reservedobjectinstancenames_.Swap(&other->reservedobjectinstancenames_);
+    objectinstancenamesbeingreserved_.Swap(&other->objectinstancenamesbeingreserved_);
+    std::swap(nextobjectinstancehandle_, other->nextobjectinstancehandle_);
+    std::swap(objectinstancestatecount_, other->objectinstancestatecount_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateState_FederateObjectManagerState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateState_FederateObjectManagerState_descriptor_;
+  metadata.reflection = FederateState_FederateObjectManagerState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::kObjectInstanceHandleFieldNumber;
+const int FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject(const FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancehandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::~FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject() {
+  SharedDtor();
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::SharedDtor() {
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject_descriptor_;
+}
+
+const FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject& FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject* FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::default_instance_ = NULL;
+
+FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject* FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::New() const {
+  return new FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject;
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectinstancehandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectinstancehandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::MergeFrom(const FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::CopyFrom(const FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::Swap(FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject* other) {
+  if (other != this) {
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject_descriptor_;
+  metadata.reflection = FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::kObjectClassHandleFieldNumber;
+const int FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::InitAsDefaultInstance() {
+}
+
+FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass(const FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::~FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass() {
+  SharedDtor();
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass_descriptor_;
+}
+
+const FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass& FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass* FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::default_instance_ = NULL;
+
+FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass* FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::New() const {
+  return new FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass;
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::MergeFrom(const FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::CopyFrom(const FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::Swap(FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass_descriptor_;
+  metadata.reflection = FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederateState_FederateRegionManagerState_FederateRegionState::kRegionHandleFieldNumber;
+const int FederateState_FederateRegionManagerState_FederateRegionState::kRangeBoundsFieldNumber;
+const int FederateState_FederateRegionManagerState_FederateRegionState::kUncommittedRangeBoundsFieldNumber;
+const int FederateState_FederateRegionManagerState_FederateRegionState::kSubscribedObjectClassesFieldNumber;
+const int FederateState_FederateRegionManagerState_FederateRegionState::kSubscribedInteractionClassesFieldNumber;
+const int FederateState_FederateRegionManagerState_FederateRegionState::kAssociatedObjectCountFieldNumber;
+#endif  // !_MSC_VER
+
+FederateState_FederateRegionManagerState_FederateRegionState::FederateState_FederateRegionManagerState_FederateRegionState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState::InitAsDefaultInstance() {
+  regionhandle_ = const_cast< ::ohla::rti::proto::RegionHandle*>(&::ohla::rti::proto::RegionHandle::default_instance());
+}
+
+FederateState_FederateRegionManagerState_FederateRegionState::FederateState_FederateRegionManagerState_FederateRegionState(const FederateState_FederateRegionManagerState_FederateRegionState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState::SharedCtor() {
+  _cached_size_ = 0;
+  regionhandle_ = NULL;
+  associatedobjectcount_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateState_FederateRegionManagerState_FederateRegionState::~FederateState_FederateRegionManagerState_FederateRegionState() {
+  SharedDtor();
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState::SharedDtor() {
+  if (this != default_instance_) {
+    delete regionhandle_;
+  }
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateState_FederateRegionManagerState_FederateRegionState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateRegionManagerState_FederateRegionState_descriptor_;
+}
+
+const FederateState_FederateRegionManagerState_FederateRegionState& FederateState_FederateRegionManagerState_FederateRegionState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateState_FederateRegionManagerState_FederateRegionState* FederateState_FederateRegionManagerState_FederateRegionState::default_instance_ = NULL;
+
+FederateState_FederateRegionManagerState_FederateRegionState* FederateState_FederateRegionManagerState_FederateRegionState::New() const {
+  return new FederateState_FederateRegionManagerState_FederateRegionState;
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_regionhandle()) {
+      if (regionhandle_ != NULL) regionhandle_->::ohla::rti::proto::RegionHandle::Clear();
+    }
+    associatedobjectcount_ = 0u;
+  }
+  rangebounds_.Clear();
+  uncommittedrangebounds_.Clear();
+  subscribedobjectclasses_.Clear();
+  subscribedinteractionclasses_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateState_FederateRegionManagerState_FederateRegionState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_regionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_rangeBounds;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.DimensionRangeBound rangeBounds = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_rangeBounds:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_rangebounds()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_rangeBounds;
+        if (input->ExpectTag(26)) goto parse_uncommittedRangeBounds;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.DimensionRangeBound uncommittedRangeBounds = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_uncommittedRangeBounds:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_uncommittedrangebounds()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_uncommittedRangeBounds;
+        if (input->ExpectTag(34)) goto parse_subscribedObjectClasses;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.FederateState.FederateRegionManagerState.FederateRegionState.SubscribedObjectClass subscribedObjectClasses = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_subscribedObjectClasses:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_subscribedobjectclasses()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_subscribedObjectClasses;
+        if (input->ExpectTag(40)) goto parse_subscribedInteractionClasses;
+        break;
+      }
+
+      // repeated uint32 subscribedInteractionClasses = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_subscribedInteractionClasses:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 40, input, this->mutable_subscribedinteractionclasses())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_subscribedinteractionclasses())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(40)) goto parse_subscribedInteractionClasses;
+        if (input->ExpectTag(48)) goto parse_associatedObjectCount;
+        break;
+      }
+
+      // required uint32 associatedObjectCount = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_associatedObjectCount:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &associatedobjectcount_)));
+          set_has_associatedobjectcount();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  if (has_regionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->regionhandle(), output);
+  }
+
+  // repeated .ohla.rti.proto.DimensionRangeBound rangeBounds = 2;
+  for (int i = 0; i < this->rangebounds_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->rangebounds(i), output);
+  }
+
+  // repeated .ohla.rti.proto.DimensionRangeBound uncommittedRangeBounds = 3;
+  for (int i = 0; i < this->uncommittedrangebounds_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->uncommittedrangebounds(i), output);
+  }
+
+  // repeated .ohla.rti.proto.FederateState.FederateRegionManagerState.FederateRegionState.SubscribedObjectClass subscribedObjectClasses = 4;
+  for (int i = 0; i < this->subscribedobjectclasses_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      4, this->subscribedobjectclasses(i), output);
+  }
+
+  // repeated uint32 subscribedInteractionClasses = 5;
+  for (int i = 0; i < this->subscribedinteractionclasses_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      5, this->subscribedinteractionclasses(i), output);
+  }
+
+  // required uint32 associatedObjectCount = 6;
+  if (has_associatedobjectcount()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(6, this->associatedobjectcount(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateState_FederateRegionManagerState_FederateRegionState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  if (has_regionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->regionhandle(), target);
+  }
+
+  // repeated .ohla.rti.proto.DimensionRangeBound rangeBounds = 2;
+  for (int i = 0; i < this->rangebounds_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->rangebounds(i), target);
+  }
+
+  // repeated .ohla.rti.proto.DimensionRangeBound uncommittedRangeBounds = 3;
+  for (int i = 0; i < this->uncommittedrangebounds_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->uncommittedrangebounds(i), target);
+  }
+
+  // repeated .ohla.rti.proto.FederateState.FederateRegionManagerState.FederateRegionState.SubscribedObjectClass subscribedObjectClasses = 4;
+  for (int i = 0; i < this->subscribedobjectclasses_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        4, this->subscribedobjectclasses(i), target);
+  }
+
+  // repeated uint32 subscribedInteractionClasses = 5;
+  for (int i = 0; i < this->subscribedinteractionclasses_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(5, this->subscribedinteractionclasses(i), target);
+  }
+
+  // required uint32 associatedObjectCount = 6;
+  if (has_associatedobjectcount()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(6, this->associatedobjectcount(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateState_FederateRegionManagerState_FederateRegionState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+    if (has_regionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->regionhandle());
+    }
+
+    // required uint32 associatedObjectCount = 6;
+    if (has_associatedobjectcount()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->associatedobjectcount());
+    }
+
+  }
+  // repeated .ohla.rti.proto.DimensionRangeBound rangeBounds = 2;
+  total_size += 1 * this->rangebounds_size();
+  for (int i = 0; i < this->rangebounds_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->rangebounds(i));
+  }
+
+  // repeated .ohla.rti.proto.DimensionRangeBound uncommittedRangeBounds = 3;
+  total_size += 1 * this->uncommittedrangebounds_size();
+  for (int i = 0; i < this->uncommittedrangebounds_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->uncommittedrangebounds(i));
+  }
+
+  // repeated .ohla.rti.proto.FederateState.FederateRegionManagerState.FederateRegionState.SubscribedObjectClass subscribedObjectClasses = 4;
+  total_size += 1 * this->subscribedobjectclasses_size();
+  for (int i = 0; i < this->subscribedobjectclasses_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->subscribedobjectclasses(i));
+  }
+
+  // repeated uint32 subscribedInteractionClasses = 5;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->subscribedinteractionclasses_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->subscribedinteractionclasses(i));
+    }
+    total_size += 1 * this->subscribedinteractionclasses_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateState_FederateRegionManagerState_FederateRegionState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateState_FederateRegionManagerState_FederateRegionState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState::MergeFrom(const FederateState_FederateRegionManagerState_FederateRegionState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  rangebounds_.MergeFrom(from.rangebounds_);
+  uncommittedrangebounds_.MergeFrom(from.uncommittedrangebounds_);
+  subscribedobjectclasses_.MergeFrom(from.subscribedobjectclasses_);
+  subscribedinteractionclasses_.MergeFrom(from.subscribedinteractionclasses_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_regionhandle()) {
+      mutable_regionhandle()->::ohla::rti::proto::RegionHandle::MergeFrom(from.regionhandle());
+    }
+    if (from.has_associatedobjectcount()) {
+      set_associatedobjectcount(from.associatedobjectcount());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState::CopyFrom(const FederateState_FederateRegionManagerState_FederateRegionState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateState_FederateRegionManagerState_FederateRegionState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000021) != 0x00000021) return false;
+
+  if (has_regionhandle()) {
+    if (!this->regionhandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < rangebounds_size(); i++) {
+    if (!this->rangebounds(i).IsInitialized()) return false;
+  }
+  for (int i = 0; i < uncommittedrangebounds_size(); i++) {
+    if (!this->uncommittedrangebounds(i).IsInitialized()) return false;
+  }
+  for (int i = 0; i < subscribedobjectclasses_size(); i++) {
+    if (!this->subscribedobjectclasses(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FederateState_FederateRegionManagerState_FederateRegionState::Swap(FederateState_FederateRegionManagerState_FederateRegionState* other) {
+  if (other != this) {
+    std::swap(regionhandle_, other->regionhandle_);
+    rangebounds_.Swap(&other->rangebounds_);
+    uncommittedrangebounds_.Swap(&other->uncommittedrangebounds_);
+    subscribedobjectclasses_.Swap(&other->subscribedobjectclasses_);
+    subscribedinteractionclasses_.Swap(&other->subscribedinteractionclasses_);
+    std::swap(associatedobjectcount_, other->associatedobjectcount_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateState_FederateRegionManagerState_FederateRegionState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateState_FederateRegionManagerState_FederateRegionState_descriptor_;
+  metadata.reflection = FederateState_FederateRegionManagerState_FederateRegionState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederateState_FederateRegionManagerState::kNextRegionHandleFieldNumber;
+const int FederateState_FederateRegionManagerState::kRegionStateCountFieldNumber;
+#endif  // !_MSC_VER
+
+FederateState_FederateRegionManagerState::FederateState_FederateRegionManagerState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateState_FederateRegionManagerState::InitAsDefaultInstance() {
+}
+
+FederateState_FederateRegionManagerState::FederateState_FederateRegionManagerState(const FederateState_FederateRegionManagerState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateState_FederateRegionManagerState::SharedCtor() {
+  _cached_size_ = 0;
+  nextregionhandle_ = 0u;
+  regionstatecount_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateState_FederateRegionManagerState::~FederateState_FederateRegionManagerState() {
+  SharedDtor();
+}
+
+void FederateState_FederateRegionManagerState::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederateState_FederateRegionManagerState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateState_FederateRegionManagerState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateRegionManagerState_descriptor_;
+}
+
+const FederateState_FederateRegionManagerState& FederateState_FederateRegionManagerState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateState_FederateRegionManagerState* FederateState_FederateRegionManagerState::default_instance_ = NULL;
+
+FederateState_FederateRegionManagerState* FederateState_FederateRegionManagerState::New() const {
+  return new FederateState_FederateRegionManagerState;
+}
+
+void FederateState_FederateRegionManagerState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    nextregionhandle_ = 0u;
+    regionstatecount_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateState_FederateRegionManagerState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 nextRegionHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &nextregionhandle_)));
+          set_has_nextregionhandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_regionStateCount;
+        break;
+      }
+
+      // required uint32 regionStateCount = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_regionStateCount:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &regionstatecount_)));
+          set_has_regionstatecount();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateState_FederateRegionManagerState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 nextRegionHandle = 1;
+  if (has_nextregionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->nextregionhandle(), output);
+  }
+
+  // required uint32 regionStateCount = 2;
+  if (has_regionstatecount()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->regionstatecount(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateState_FederateRegionManagerState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 nextRegionHandle = 1;
+  if (has_nextregionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->nextregionhandle(), target);
+  }
+
+  // required uint32 regionStateCount = 2;
+  if (has_regionstatecount()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->regionstatecount(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateState_FederateRegionManagerState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 nextRegionHandle = 1;
+    if (has_nextregionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->nextregionhandle());
+    }
+
+    // required uint32 regionStateCount = 2;
+    if (has_regionstatecount()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->regionstatecount());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateState_FederateRegionManagerState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateState_FederateRegionManagerState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateState_FederateRegionManagerState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateState_FederateRegionManagerState::MergeFrom(const FederateState_FederateRegionManagerState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_nextregionhandle()) {
+      set_nextregionhandle(from.nextregionhandle());
+    }
+    if (from.has_regionstatecount()) {
+      set_regionstatecount(from.regionstatecount());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateState_FederateRegionManagerState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateState_FederateRegionManagerState::CopyFrom(const FederateState_FederateRegionManagerState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateState_FederateRegionManagerState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void FederateState_FederateRegionManagerState::Swap(FederateState_FederateRegionManagerState* other) {
+  if (other != this) {
+    std::swap(nextregionhandle_, other->nextregionhandle_);
+    std::swap(regionstatecount_, other->regionstatecount_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateState_FederateRegionManagerState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateState_FederateRegionManagerState_descriptor_;
+  metadata.reflection = FederateState_FederateRegionManagerState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederateState_FederateMessageRetractionManagerState_MessageRetraction::kMessageRetractionHandleFieldNumber;
+const int FederateState_FederateMessageRetractionManagerState_MessageRetraction::kExpirationFieldNumber;
+#endif  // !_MSC_VER
+
+FederateState_FederateMessageRetractionManagerState_MessageRetraction::FederateState_FederateMessageRetractionManagerState_MessageRetraction()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateState_FederateMessageRetractionManagerState_MessageRetraction::InitAsDefaultInstance() {
+  messageretractionhandle_ = const_cast< ::ohla::rti::proto::MessageRetractionHandle*>(&::ohla::rti::proto::MessageRetractionHandle::default_instance());
+}
+
+FederateState_FederateMessageRetractionManagerState_MessageRetraction::FederateState_FederateMessageRetractionManagerState_MessageRetraction(const FederateState_FederateMessageRetractionManagerState_MessageRetraction& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateState_FederateMessageRetractionManagerState_MessageRetraction::SharedCtor() {
+  _cached_size_ = 0;
+  messageretractionhandle_ = NULL;
+  expiration_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateState_FederateMessageRetractionManagerState_MessageRetraction::~FederateState_FederateMessageRetractionManagerState_MessageRetraction() {
+  SharedDtor();
+}
+
+void FederateState_FederateMessageRetractionManagerState_MessageRetraction::SharedDtor() {
+  if (expiration_ != &::google::protobuf::internal::kEmptyString) {
+    delete expiration_;
+  }
+  if (this != default_instance_) {
+    delete messageretractionhandle_;
+  }
+}
+
+void FederateState_FederateMessageRetractionManagerState_MessageRetraction::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateState_FederateMessageRetractionManagerState_MessageRetraction::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateMessageRetractionManagerState_MessageRetraction_descriptor_;
+}
+
+const FederateState_FederateMessageRetractionManagerState_MessageRetraction& FederateState_FederateMessageRetractionManagerState_MessageRetraction::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateState_FederateMessageRetractionManagerState_MessageRetraction* FederateState_FederateMessageRetractionManagerState_MessageRetraction::default_instance_ = NULL;
+
+FederateState_FederateMessageRetractionManagerState_MessageRetraction* FederateState_FederateMessageRetractionManagerState_MessageRetraction::New() const {
+  return new FederateState_FederateMessageRetractionManagerState_MessageRetraction;
+}
+
+void FederateState_FederateMessageRetractionManagerState_MessageRetraction::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_messageretractionhandle()) {
+      if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+    }
+    if (has_expiration()) {
+      if (expiration_ != &::google::protobuf::internal::kEmptyString) {
+        expiration_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateState_FederateMessageRetractionManagerState_MessageRetraction::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_messageretractionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_expiration;
+        break;
+      }
+
+      // required bytes expiration = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_expiration:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_expiration()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateState_FederateMessageRetractionManagerState_MessageRetraction::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 1;
+  if (has_messageretractionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->messageretractionhandle(), output);
+  }
+
+  // required bytes expiration = 2;
+  if (has_expiration()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      2, this->expiration(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateState_FederateMessageRetractionManagerState_MessageRetraction::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 1;
+  if (has_messageretractionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->messageretractionhandle(), target);
+  }
+
+  // required bytes expiration = 2;
+  if (has_expiration()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        2, this->expiration(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateState_FederateMessageRetractionManagerState_MessageRetraction::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 1;
+    if (has_messageretractionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->messageretractionhandle());
+    }
+
+    // required bytes expiration = 2;
+    if (has_expiration()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->expiration());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateState_FederateMessageRetractionManagerState_MessageRetraction::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateState_FederateMessageRetractionManagerState_MessageRetraction* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateState_FederateMessageRetractionManagerState_MessageRetraction*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateState_FederateMessageRetractionManagerState_MessageRetraction::MergeFrom(const FederateState_FederateMessageRetractionManagerState_MessageRetraction& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_messageretractionhandle()) {
+      mutable_messageretractionhandle()->::ohla::rti::proto::MessageRetractionHandle::MergeFrom(from.messageretractionhandle());
+    }
+    if (from.has_expiration()) {
+      set_expiration(from.expiration());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateState_FederateMessageRetractionManagerState_MessageRetraction::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateState_FederateMessageRetractionManagerState_MessageRetraction::CopyFrom(const FederateState_FederateMessageRetractionManagerState_MessageRetraction& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateState_FederateMessageRetractionManagerState_MessageRetraction::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  if (has_messageretractionhandle()) {
+    if (!this->messageretractionhandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FederateState_FederateMessageRetractionManagerState_MessageRetraction::Swap(FederateState_FederateMessageRetractionManagerState_MessageRetraction* other) {
+  if (other != this) {
+    std::swap(messageretractionhandle_, other->messageretractionhandle_);
+    std::swap(expiration_, other->expiration_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateState_FederateMessageRetractionManagerState_MessageRetraction::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateState_FederateMessageRetractionManagerState_MessageRetraction_descriptor_;
+  metadata.reflection = FederateState_FederateMessageRetractionManagerState_MessageRetraction_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederateState_FederateMessageRetractionManagerState::kNextMessageRetractionHandleFieldNumber;
+const int FederateState_FederateMessageRetractionManagerState::kMessageRetractionCountFieldNumber;
+#endif  // !_MSC_VER
+
+FederateState_FederateMessageRetractionManagerState::FederateState_FederateMessageRetractionManagerState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateState_FederateMessageRetractionManagerState::InitAsDefaultInstance() {
+}
+
+FederateState_FederateMessageRetractionManagerState::FederateState_FederateMessageRetractionManagerState(const FederateState_FederateMessageRetractionManagerState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateState_FederateMessageRetractionManagerState::SharedCtor() {
+  _cached_size_ = 0;
+  nextmessageretractionhandle_ = GOOGLE_ULONGLONG(0);
+  messageretractioncount_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateState_FederateMessageRetractionManagerState::~FederateState_FederateMessageRetractionManagerState() {
+  SharedDtor();
+}
+
+void FederateState_FederateMessageRetractionManagerState::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederateState_FederateMessageRetractionManagerState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateState_FederateMessageRetractionManagerState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateMessageRetractionManagerState_descriptor_;
+}
+
+const FederateState_FederateMessageRetractionManagerState& FederateState_FederateMessageRetractionManagerState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateState_FederateMessageRetractionManagerState* FederateState_FederateMessageRetractionManagerState::default_instance_ = NULL;
+
+FederateState_FederateMessageRetractionManagerState* FederateState_FederateMessageRetractionManagerState::New() const {
+  return new FederateState_FederateMessageRetractionManagerState;
+}
+
+void FederateState_FederateMessageRetractionManagerState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    nextmessageretractionhandle_ = GOOGLE_ULONGLONG(0);
+    messageretractioncount_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateState_FederateMessageRetractionManagerState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 nextMessageRetractionHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &nextmessageretractionhandle_)));
+          set_has_nextmessageretractionhandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_messageRetractionCount;
+        break;
+      }
+
+      // required uint32 messageRetractionCount = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_messageRetractionCount:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &messageretractioncount_)));
+          set_has_messageretractioncount();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateState_FederateMessageRetractionManagerState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 nextMessageRetractionHandle = 1;
+  if (has_nextmessageretractionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->nextmessageretractionhandle(), output);
+  }
+
+  // required uint32 messageRetractionCount = 2;
+  if (has_messageretractioncount()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->messageretractioncount(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateState_FederateMessageRetractionManagerState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 nextMessageRetractionHandle = 1;
+  if (has_nextmessageretractionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->nextmessageretractionhandle(), target);
+  }
+
+  // required uint32 messageRetractionCount = 2;
+  if (has_messageretractioncount()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->messageretractioncount(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateState_FederateMessageRetractionManagerState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 nextMessageRetractionHandle = 1;
+    if (has_nextmessageretractionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->nextmessageretractionhandle());
+    }
+
+    // required uint32 messageRetractionCount = 2;
+    if (has_messageretractioncount()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->messageretractioncount());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateState_FederateMessageRetractionManagerState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateState_FederateMessageRetractionManagerState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateState_FederateMessageRetractionManagerState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateState_FederateMessageRetractionManagerState::MergeFrom(const FederateState_FederateMessageRetractionManagerState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_nextmessageretractionhandle()) {
+      set_nextmessageretractionhandle(from.nextmessageretractionhandle());
+    }
+    if (from.has_messageretractioncount()) {
+      set_messageretractioncount(from.messageretractioncount());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateState_FederateMessageRetractionManagerState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateState_FederateMessageRetractionManagerState::CopyFrom(const FederateState_FederateMessageRetractionManagerState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateState_FederateMessageRetractionManagerState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void FederateState_FederateMessageRetractionManagerState::Swap(FederateState_FederateMessageRetractionManagerState* other) {
+  if (other != this) {
+    std::swap(nextmessageretractionhandle_, other->nextmessageretractionhandle_);
+    std::swap(messageretractioncount_, other->messageretractioncount_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateState_FederateMessageRetractionManagerState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateState_FederateMessageRetractionManagerState_descriptor_;
+  metadata.reflection = FederateState_FederateMessageRetractionManagerState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+const ::google::protobuf::EnumDescriptor* FederateState_FederateTimeManagerState_TemporalState_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateTimeManagerState_TemporalState_descriptor_;
+}
+bool FederateState_FederateTimeManagerState_TemporalState_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const FederateState_FederateTimeManagerState_TemporalState FederateState_FederateTimeManagerState::TIME_ADVANCING;
+const FederateState_FederateTimeManagerState_TemporalState FederateState_FederateTimeManagerState::TIME_GRANTED;
+const FederateState_FederateTimeManagerState_TemporalState FederateState_FederateTimeManagerState::TemporalState_MIN;
+const FederateState_FederateTimeManagerState_TemporalState FederateState_FederateTimeManagerState::TemporalState_MAX;
+const int FederateState_FederateTimeManagerState::TemporalState_ARRAYSIZE;
+#endif  // _MSC_VER
+const ::google::protobuf::EnumDescriptor* FederateState_FederateTimeManagerState_TimeRegulatingState_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateTimeManagerState_TimeRegulatingState_descriptor_;
+}
+bool FederateState_FederateTimeManagerState_TimeRegulatingState_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+    case 3:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const FederateState_FederateTimeManagerState_TimeRegulatingState FederateState_FederateTimeManagerState::TIME_REGULATING;
+const FederateState_FederateTimeManagerState_TimeRegulatingState FederateState_FederateTimeManagerState::BECOMING_TIME_REGULATING;
+const FederateState_FederateTimeManagerState_TimeRegulatingState FederateState_FederateTimeManagerState::NOT_TIME_REGULATING;
+const FederateState_FederateTimeManagerState_TimeRegulatingState FederateState_FederateTimeManagerState::TimeRegulatingState_MIN;
+const FederateState_FederateTimeManagerState_TimeRegulatingState FederateState_FederateTimeManagerState::TimeRegulatingState_MAX;
+const int FederateState_FederateTimeManagerState::TimeRegulatingState_ARRAYSIZE;
+#endif  // _MSC_VER
+const ::google::protobuf::EnumDescriptor* FederateState_FederateTimeManagerState_TimeConstrainedState_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateTimeManagerState_TimeConstrainedState_descriptor_;
+}
+bool FederateState_FederateTimeManagerState_TimeConstrainedState_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+    case 3:
+      return true;
+    default:
+      return false;
+  }
+}
+
+#ifndef _MSC_VER
+const FederateState_FederateTimeManagerState_TimeConstrainedState FederateState_FederateTimeManagerState::TIME_CONSTRAINED;
+const FederateState_FederateTimeManagerState_TimeConstrainedState FederateState_FederateTimeManagerState::BECOMING_TIME_CONSTRAINED;
+const FederateState_FederateTimeManagerState_TimeConstrainedState FederateState_FederateTimeManagerState::NOT_TIME_CONSTRAINED;
+const FederateState_FederateTimeManagerState_TimeConstrainedState FederateState_FederateTimeManagerState::TimeConstrainedState_MIN;
+const FederateState_FederateTimeManagerState_TimeConstrainedState FederateState_FederateTimeManagerState::TimeConstrainedState_MAX;
+const int FederateState_FederateTimeManagerState::TimeConstrainedState_ARRAYSIZE;
+#endif  // _MSC_VER
+#ifndef _MSC_VER
+const int FederateState_FederateTimeManagerState::kTemporalStateFieldNumber;
+const int FederateState_FederateTimeManagerState::kTimeRegulatingStateFieldNumber;
+const int FederateState_FederateTimeManagerState::kTimeConstrainedStateFieldNumber;
+const int FederateState_FederateTimeManagerState::kFederateTimeFieldNumber;
+const int FederateState_FederateTimeManagerState::kLookaheadFieldNumber;
+const int FederateState_FederateTimeManagerState::kLotsFieldNumber;
+const int FederateState_FederateTimeManagerState::kAdvanceRequestTypeFieldNumber;
+const int FederateState_FederateTimeManagerState::kAdvanceRequestTimeFieldNumber;
+#endif  // !_MSC_VER
+
+FederateState_FederateTimeManagerState::FederateState_FederateTimeManagerState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateState_FederateTimeManagerState::InitAsDefaultInstance() {
+}
+
+FederateState_FederateTimeManagerState::FederateState_FederateTimeManagerState(const FederateState_FederateTimeManagerState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateState_FederateTimeManagerState::SharedCtor() {
+  _cached_size_ = 0;
+  temporalstate_ = 1;
+  timeregulatingstate_ = 1;
+  timeconstrainedstate_ = 1;
+  federatetime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  lookahead_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  lots_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  advancerequesttype_ = 1;
+  advancerequesttime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateState_FederateTimeManagerState::~FederateState_FederateTimeManagerState() {
+  SharedDtor();
+}
+
+void FederateState_FederateTimeManagerState::SharedDtor() {
+  if (federatetime_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatetime_;
+  }
+  if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+    delete lookahead_;
+  }
+  if (lots_ != &::google::protobuf::internal::kEmptyString) {
+    delete lots_;
+  }
+  if (advancerequesttime_ != &::google::protobuf::internal::kEmptyString) {
+    delete advancerequesttime_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FederateState_FederateTimeManagerState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateState_FederateTimeManagerState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_FederateTimeManagerState_descriptor_;
+}
+
+const FederateState_FederateTimeManagerState& FederateState_FederateTimeManagerState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateState_FederateTimeManagerState* FederateState_FederateTimeManagerState::default_instance_ = NULL;
+
+FederateState_FederateTimeManagerState* FederateState_FederateTimeManagerState::New() const {
+  return new FederateState_FederateTimeManagerState;
+}
+
+void FederateState_FederateTimeManagerState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    temporalstate_ = 1;
+    timeregulatingstate_ = 1;
+    timeconstrainedstate_ = 1;
+    if (has_federatetime()) {
+      if (federatetime_ != &::google::protobuf::internal::kEmptyString) {
+        federatetime_->clear();
+      }
+    }
+    if (has_lookahead()) {
+      if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+        lookahead_->clear();
+      }
+    }
+    if (has_lots()) {
+      if (lots_ != &::google::protobuf::internal::kEmptyString) {
+        lots_->clear();
+      }
+    }
+    advancerequesttype_ = 1;
+    if (has_advancerequesttime()) {
+      if (advancerequesttime_ != &::google::protobuf::internal::kEmptyString) {
+        advancerequesttime_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateState_FederateTimeManagerState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TemporalState temporalState = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::FederateState_FederateTimeManagerState_TemporalState_IsValid(value)) {
+            set_temporalstate(static_cast< ::ohla::rti::proto::FederateState_FederateTimeManagerState_TemporalState >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_timeRegulatingState;
+        break;
+      }
+
+      // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TimeRegulatingState timeRegulatingState = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_timeRegulatingState:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeRegulatingState_IsValid(value)) {
+            set_timeregulatingstate(static_cast< ::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeRegulatingState >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(2, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_timeConstrainedState;
+        break;
+      }
+
+      // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TimeConstrainedState timeConstrainedState = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_timeConstrainedState:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeConstrainedState_IsValid(value)) {
+            set_timeconstrainedstate(static_cast< ::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeConstrainedState >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(3, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_federateTime;
+        break;
+      }
+
+      // required bytes federateTime = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_federateTime:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_federatetime()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(42)) goto parse_lookahead;
+        break;
+      }
+
+      // optional bytes lookahead = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_lookahead:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_lookahead()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(50)) goto parse_lots;
+        break;
+      }
+
+      // optional bytes lots = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_lots:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_lots()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(56)) goto parse_advanceRequestType;
+        break;
+      }
+
+      // required .ohla.rti.proto.AdvanceRequestType advanceRequestType = 7;
+      case 7: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_advanceRequestType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::AdvanceRequestType_IsValid(value)) {
+            set_advancerequesttype(static_cast< ::ohla::rti::proto::AdvanceRequestType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(7, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(66)) goto parse_advanceRequestTime;
+        break;
+      }
+
+      // optional bytes advanceRequestTime = 8;
+      case 8: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_advanceRequestTime:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_advancerequesttime()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateState_FederateTimeManagerState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TemporalState temporalState = 1;
+  if (has_temporalstate()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->temporalstate(), output);
+  }
+
+  // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TimeRegulatingState timeRegulatingState = 2;
+  if (has_timeregulatingstate()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      2, this->timeregulatingstate(), output);
+  }
+
+  // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TimeConstrainedState timeConstrainedState = 3;
+  if (has_timeconstrainedstate()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      3, this->timeconstrainedstate(), output);
+  }
+
+  // required bytes federateTime = 4;
+  if (has_federatetime()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      4, this->federatetime(), output);
+  }
+
+  // optional bytes lookahead = 5;
+  if (has_lookahead()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      5, this->lookahead(), output);
+  }
+
+  // optional bytes lots = 6;
+  if (has_lots()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      6, this->lots(), output);
+  }
+
+  // required .ohla.rti.proto.AdvanceRequestType advanceRequestType = 7;
+  if (has_advancerequesttype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      7, this->advancerequesttype(), output);
+  }
+
+  // optional bytes advanceRequestTime = 8;
+  if (has_advancerequesttime()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      8, this->advancerequesttime(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateState_FederateTimeManagerState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TemporalState temporalState = 1;
+  if (has_temporalstate()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->temporalstate(), target);
+  }
+
+  // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TimeRegulatingState timeRegulatingState = 2;
+  if (has_timeregulatingstate()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      2, this->timeregulatingstate(), target);
+  }
+
+  // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TimeConstrainedState timeConstrainedState = 3;
+  if (has_timeconstrainedstate()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      3, this->timeconstrainedstate(), target);
+  }
+
+  // required bytes federateTime = 4;
+  if (has_federatetime()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        4, this->federatetime(), target);
+  }
+
+  // optional bytes lookahead = 5;
+  if (has_lookahead()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        5, this->lookahead(), target);
+  }
+
+  // optional bytes lots = 6;
+  if (has_lots()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        6, this->lots(), target);
+  }
+
+  // required .ohla.rti.proto.AdvanceRequestType advanceRequestType = 7;
+  if (has_advancerequesttype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      7, this->advancerequesttype(), target);
+  }
+
+  // optional bytes advanceRequestTime = 8;
+  if (has_advancerequesttime()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        8, this->advancerequesttime(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateState_FederateTimeManagerState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TemporalState temporalState = 1;
+    if (has_temporalstate()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->temporalstate());
+    }
+
+    // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TimeRegulatingState timeRegulatingState = 2;
+    if (has_timeregulatingstate()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->timeregulatingstate());
+    }
+
+    // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TimeConstrainedState timeConstrainedState = 3;
+    if (has_timeconstrainedstate()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->timeconstrainedstate());
+    }
+
+    // required bytes federateTime = 4;
+    if (has_federatetime()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->federatetime());
+    }
+
+    // optional bytes lookahead = 5;
+    if (has_lookahead()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->lookahead());
+    }
+
+    // optional bytes lots = 6;
+    if (has_lots()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->lots());
+    }
+
+    // required .ohla.rti.proto.AdvanceRequestType advanceRequestType = 7;
+    if (has_advancerequesttype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->advancerequesttype());
+    }
+
+    // optional bytes advanceRequestTime = 8;
+    if (has_advancerequesttime()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->advancerequesttime());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateState_FederateTimeManagerState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateState_FederateTimeManagerState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateState_FederateTimeManagerState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateState_FederateTimeManagerState::MergeFrom(const FederateState_FederateTimeManagerState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_temporalstate()) {
+      set_temporalstate(from.temporalstate());
+    }
+    if (from.has_timeregulatingstate()) {
+      set_timeregulatingstate(from.timeregulatingstate());
+    }
+    if (from.has_timeconstrainedstate()) {
+      set_timeconstrainedstate(from.timeconstrainedstate());
+    }
+    if (from.has_federatetime()) {
+      set_federatetime(from.federatetime());
+    }
+    if (from.has_lookahead()) {
+      set_lookahead(from.lookahead());
+    }
+    if (from.has_lots()) {
+      set_lots(from.lots());
+    }
+    if (from.has_advancerequesttype()) {
+      set_advancerequesttype(from.advancerequesttype());
+    }
+    if (from.has_advancerequesttime()) {
+      set_advancerequesttime(from.advancerequesttime());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateState_FederateTimeManagerState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateState_FederateTimeManagerState::CopyFrom(const FederateState_FederateTimeManagerState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateState_FederateTimeManagerState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000004f) != 0x0000004f) return false;
+
+  return true;
+}
+
+void FederateState_FederateTimeManagerState::Swap(FederateState_FederateTimeManagerState* other) {
+  if (other != this) {
+    std::swap(temporalstate_, other->temporalstate_);
+    std::swap(timeregulatingstate_, other->timeregulatingstate_);
+    std::swap(timeconstrainedstate_, other->timeconstrainedstate_);
+    std::swap(federatetime_, other->federatetime_);
+    std::swap(lookahead_, other->lookahead_);
+    std::swap(lots_, other->lots_);
+    std::swap(advancerequesttype_, other->advancerequesttype_);
+    std::swap(advancerequesttime_, other->advancerequesttime_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateState_FederateTimeManagerState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateState_FederateTimeManagerState_descriptor_;
+  metadata.reflection = FederateState_FederateTimeManagerState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederateState::kSynchonizationPointStateCountFieldNumber;
+const int FederateState::kHasHLA13RTIAmbassadorStateFieldNumber;
+#endif  // !_MSC_VER
+
+FederateState::FederateState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateState::InitAsDefaultInstance() {
+}
+
+FederateState::FederateState(const FederateState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateState::SharedCtor() {
+  _cached_size_ = 0;
+  synchonizationpointstatecount_ = 0u;
+  hashla13rtiambassadorstate_ = false;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateState::~FederateState() {
+  SharedDtor();
+}
+
+void FederateState::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederateState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateState_descriptor_;
+}
+
+const FederateState& FederateState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateState* FederateState::default_instance_ = NULL;
+
+FederateState* FederateState::New() const {
+  return new FederateState;
+}
+
+void FederateState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    synchonizationpointstatecount_ = 0u;
+    hashla13rtiambassadorstate_ = false;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 synchonizationPointStateCount = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &synchonizationpointstatecount_)));
+          set_has_synchonizationpointstatecount();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_hasHLA13RTIAmbassadorState;
+        break;
+      }
+
+      // required bool hasHLA13RTIAmbassadorState = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_hasHLA13RTIAmbassadorState:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &hashla13rtiambassadorstate_)));
+          set_has_hashla13rtiambassadorstate();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 synchonizationPointStateCount = 1;
+  if (has_synchonizationpointstatecount()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->synchonizationpointstatecount(), output);
+  }
+
+  // required bool hasHLA13RTIAmbassadorState = 2;
+  if (has_hashla13rtiambassadorstate()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(2, this->hashla13rtiambassadorstate(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 synchonizationPointStateCount = 1;
+  if (has_synchonizationpointstatecount()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->synchonizationpointstatecount(), target);
+  }
+
+  // required bool hasHLA13RTIAmbassadorState = 2;
+  if (has_hashla13rtiambassadorstate()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(2, this->hashla13rtiambassadorstate(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 synchonizationPointStateCount = 1;
+    if (has_synchonizationpointstatecount()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->synchonizationpointstatecount());
+    }
+
+    // required bool hasHLA13RTIAmbassadorState = 2;
+    if (has_hashla13rtiambassadorstate()) {
+      total_size += 1 + 1;
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateState::MergeFrom(const FederateState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_synchonizationpointstatecount()) {
+      set_synchonizationpointstatecount(from.synchonizationpointstatecount());
+    }
+    if (from.has_hashla13rtiambassadorstate()) {
+      set_hashla13rtiambassadorstate(from.hashla13rtiambassadorstate());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateState::CopyFrom(const FederateState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void FederateState::Swap(FederateState* other) {
+  if (other != this) {
+    std::swap(synchonizationpointstatecount_, other->synchonizationpointstatecount_);
+    std::swap(hashla13rtiambassadorstate_, other->hashla13rtiambassadorstate_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateState_descriptor_;
+  metadata.reflection = FederateState_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::kProducingFederateHandleFieldNumber;
+const int TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::kSendInteractionFieldNumber;
+const int TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::kUpdateAttributeValuesFieldNumber;
+const int TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::kDeleteObjectInstanceFieldNumber;
+#endif  // !_MSC_VER
+
+TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::TimeStampOrderedMessageQueueState_TimeStampOrderedMessage()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::InitAsDefaultInstance() {
+  sendinteraction_ = const_cast< ::ohla::rti::messages::proto::SendInteraction*>(&::ohla::rti::messages::proto::SendInteraction::default_instance());
+  updateattributevalues_ = const_cast< ::ohla::rti::messages::proto::UpdateAttributeValues*>(&::ohla::rti::messages::proto::UpdateAttributeValues::default_instance());
+  deleteobjectinstance_ = const_cast< ::ohla::rti::messages::proto::DeleteObjectInstance*>(&::ohla::rti::messages::proto::DeleteObjectInstance::default_instance());
+}
+
+TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::TimeStampOrderedMessageQueueState_TimeStampOrderedMessage(const TimeStampOrderedMessageQueueState_TimeStampOrderedMessage& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::SharedCtor() {
+  _cached_size_ = 0;
+  producingfederatehandle_ = 0u;
+  sendinteraction_ = NULL;
+  updateattributevalues_ = NULL;
+  deleteobjectinstance_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::~TimeStampOrderedMessageQueueState_TimeStampOrderedMessage() {
+  SharedDtor();
+}
+
+void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::SharedDtor() {
+  if (this != default_instance_) {
+    delete sendinteraction_;
+    delete updateattributevalues_;
+    delete deleteobjectinstance_;
+  }
+}
+
+void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return TimeStampOrderedMessageQueueState_TimeStampOrderedMessage_descriptor_;
+}
+
+const TimeStampOrderedMessageQueueState_TimeStampOrderedMessage& TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+TimeStampOrderedMessageQueueState_TimeStampOrderedMessage* TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::default_instance_ = NULL;
+
+TimeStampOrderedMessageQueueState_TimeStampOrderedMessage* TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::New() const {
+  return new TimeStampOrderedMessageQueueState_TimeStampOrderedMessage;
+}
+
+void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    producingfederatehandle_ = 0u;
+    if (has_sendinteraction()) {
+      if (sendinteraction_ != NULL) sendinteraction_->::ohla::rti::messages::proto::SendInteraction::Clear();
+    }
+    if (has_updateattributevalues()) {
+      if (updateattributevalues_ != NULL) updateattributevalues_->::ohla::rti::messages::proto::UpdateAttributeValues::Clear();
+    }
+    if (has_deleteobjectinstance()) {
+      if (deleteobjectinstance_ != NULL) deleteobjectinstance_->::ohla::rti::messages::proto::DeleteObjectInstance::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 producingFederateHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &producingfederatehandle_)));
+          set_has_producingfederatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_sendInteraction;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.SendInteraction sendInteraction = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_sendInteraction:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_sendinteraction()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_updateAttributeValues;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.UpdateAttributeValues updateAttributeValues = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_updateAttributeValues:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_updateattributevalues()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_deleteObjectInstance;
+        break;
+      }
+
+      // optional .ohla.rti.messages.proto.DeleteObjectInstance deleteObjectInstance = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_deleteObjectInstance:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_deleteobjectinstance()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 producingFederateHandle = 1;
+  if (has_producingfederatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->producingfederatehandle(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.SendInteraction sendInteraction = 2;
+  if (has_sendinteraction()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->sendinteraction(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.UpdateAttributeValues updateAttributeValues = 3;
+  if (has_updateattributevalues()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->updateattributevalues(), output);
+  }
+
+  // optional .ohla.rti.messages.proto.DeleteObjectInstance deleteObjectInstance = 4;
+  if (has_deleteobjectinstance()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      4, this->deleteobjectinstance(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 producingFederateHandle = 1;
+  if (has_producingfederatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->producingfederatehandle(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.SendInteraction sendInteraction = 2;
+  if (has_sendinteraction()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->sendinteraction(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.UpdateAttributeValues updateAttributeValues = 3;
+  if (has_updateattributevalues()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->updateattributevalues(), target);
+  }
+
+  // optional .ohla.rti.messages.proto.DeleteObjectInstance deleteObjectInstance = 4;
+  if (has_deleteobjectinstance()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        4, this->deleteobjectinstance(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 producingFederateHandle = 1;
+    if (has_producingfederatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->producingfederatehandle());
+    }
+
+    // optional .ohla.rti.messages.proto.SendInteraction sendInteraction = 2;
+    if (has_sendinteraction()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->sendinteraction());
+    }
+
+    // optional .ohla.rti.messages.proto.UpdateAttributeValues updateAttributeValues = 3;
+    if (has_updateattributevalues()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->updateattributevalues());
+    }
+
+    // optional .ohla.rti.messages.proto.DeleteObjectInstance deleteObjectInstance = 4;
+    if (has_deleteobjectinstance()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->deleteobjectinstance());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const TimeStampOrderedMessageQueueState_TimeStampOrderedMessage* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const TimeStampOrderedMessageQueueState_TimeStampOrderedMessage*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::MergeFrom(const TimeStampOrderedMessageQueueState_TimeStampOrderedMessage& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_producingfederatehandle()) {
+      set_producingfederatehandle(from.producingfederatehandle());
+    }
+    if (from.has_sendinteraction()) {
+      mutable_sendinteraction()->::ohla::rti::messages::proto::SendInteraction::MergeFrom(from.sendinteraction());
+    }
+    if (from.has_updateattributevalues()) {
+      mutable_updateattributevalues()->::ohla::rti::messages::proto::UpdateAttributeValues::MergeFrom(from.updateattributevalues());
+    }
+    if (from.has_deleteobjectinstance()) {
+      mutable_deleteobjectinstance()->::ohla::rti::messages::proto::DeleteObjectInstance::MergeFrom(from.deleteobjectinstance());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::CopyFrom(const TimeStampOrderedMessageQueueState_TimeStampOrderedMessage& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_sendinteraction()) {
+    if (!this->sendinteraction().IsInitialized()) return false;
+  }
+  if (has_updateattributevalues()) {
+    if (!this->updateattributevalues().IsInitialized()) return false;
+  }
+  if (has_deleteobjectinstance()) {
+    if (!this->deleteobjectinstance().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::Swap(TimeStampOrderedMessageQueueState_TimeStampOrderedMessage* other) {
+  if (other != this) {
+    std::swap(producingfederatehandle_, other->producingfederatehandle_);
+    std::swap(sendinteraction_, other->sendinteraction_);
+    std::swap(updateattributevalues_, other->updateattributevalues_);
+    std::swap(deleteobjectinstance_, other->deleteobjectinstance_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = TimeStampOrderedMessageQueueState_TimeStampOrderedMessage_descriptor_;
+  metadata.reflection = TimeStampOrderedMessageQueueState_TimeStampOrderedMessage_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int TimeStampOrderedMessageQueueState::kQueuedTimeStampOrderedMessageCountFieldNumber;
+#endif  // !_MSC_VER
+
+TimeStampOrderedMessageQueueState::TimeStampOrderedMessageQueueState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void TimeStampOrderedMessageQueueState::InitAsDefaultInstance() {
+}
+
+TimeStampOrderedMessageQueueState::TimeStampOrderedMessageQueueState(const TimeStampOrderedMessageQueueState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void TimeStampOrderedMessageQueueState::SharedCtor() {
+  _cached_size_ = 0;
+  queuedtimestamporderedmessagecount_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+TimeStampOrderedMessageQueueState::~TimeStampOrderedMessageQueueState() {
+  SharedDtor();
+}
+
+void TimeStampOrderedMessageQueueState::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void TimeStampOrderedMessageQueueState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* TimeStampOrderedMessageQueueState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return TimeStampOrderedMessageQueueState_descriptor_;
+}
+
+const TimeStampOrderedMessageQueueState& TimeStampOrderedMessageQueueState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+TimeStampOrderedMessageQueueState* TimeStampOrderedMessageQueueState::default_instance_ = NULL;
+
+TimeStampOrderedMessageQueueState* TimeStampOrderedMessageQueueState::New() const {
+  return new TimeStampOrderedMessageQueueState;
+}
+
+void TimeStampOrderedMessageQueueState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    queuedtimestamporderedmessagecount_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool TimeStampOrderedMessageQueueState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 queuedTimeStampOrderedMessageCount = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &queuedtimestamporderedmessagecount_)));
+          set_has_queuedtimestamporderedmessagecount();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void TimeStampOrderedMessageQueueState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 queuedTimeStampOrderedMessageCount = 1;
+  if (has_queuedtimestamporderedmessagecount()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->queuedtimestamporderedmessagecount(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* TimeStampOrderedMessageQueueState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 queuedTimeStampOrderedMessageCount = 1;
+  if (has_queuedtimestamporderedmessagecount()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->queuedtimestamporderedmessagecount(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int TimeStampOrderedMessageQueueState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 queuedTimeStampOrderedMessageCount = 1;
+    if (has_queuedtimestamporderedmessagecount()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->queuedtimestamporderedmessagecount());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void TimeStampOrderedMessageQueueState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const TimeStampOrderedMessageQueueState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const TimeStampOrderedMessageQueueState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void TimeStampOrderedMessageQueueState::MergeFrom(const TimeStampOrderedMessageQueueState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_queuedtimestamporderedmessagecount()) {
+      set_queuedtimestamporderedmessagecount(from.queuedtimestamporderedmessagecount());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void TimeStampOrderedMessageQueueState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void TimeStampOrderedMessageQueueState::CopyFrom(const TimeStampOrderedMessageQueueState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool TimeStampOrderedMessageQueueState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void TimeStampOrderedMessageQueueState::Swap(TimeStampOrderedMessageQueueState* other) {
+  if (other != this) {
+    std::swap(queuedtimestamporderedmessagecount_, other->queuedtimestamporderedmessagecount_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata TimeStampOrderedMessageQueueState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = TimeStampOrderedMessageQueueState_descriptor_;
+  metadata.reflection = TimeStampOrderedMessageQueueState_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FederateProxyState::kPublishedObjectClassesFieldNumber;
+const int FederateProxyState::kPublishedInteractionClassesFieldNumber;
+const int FederateProxyState::kTimeRegulationEnabledFieldNumber;
+const int FederateProxyState::kLookaheadFieldNumber;
+const int FederateProxyState::kTimeConstrainedEnabledFieldNumber;
+const int FederateProxyState::kTimeConstrainedPendingFieldNumber;
+const int FederateProxyState::kAdvanceRequestTypeFieldNumber;
+const int FederateProxyState::kAdvanceRequestTimeFieldNumber;
+const int FederateProxyState::kFederateTimeFieldNumber;
+const int FederateProxyState::kGaltFieldNumber;
+const int FederateProxyState::kLotsFieldNumber;
+const int FederateProxyState::kDiscoveredObjectInstanceHandleCountFieldNumber;
+#endif  // !_MSC_VER
+
+FederateProxyState::FederateProxyState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateProxyState::InitAsDefaultInstance() {
+}
+
+FederateProxyState::FederateProxyState(const FederateProxyState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateProxyState::SharedCtor() {
+  _cached_size_ = 0;
+  timeregulationenabled_ = false;
+  lookahead_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  timeconstrainedenabled_ = false;
+  timeconstrainedpending_ = false;
+  advancerequesttype_ = 1;
+  advancerequesttime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  federatetime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  galt_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  lots_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  discoveredobjectinstancehandlecount_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateProxyState::~FederateProxyState() {
+  SharedDtor();
+}
+
+void FederateProxyState::SharedDtor() {
+  if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+    delete lookahead_;
+  }
+  if (advancerequesttime_ != &::google::protobuf::internal::kEmptyString) {
+    delete advancerequesttime_;
+  }
+  if (federatetime_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatetime_;
+  }
+  if (galt_ != &::google::protobuf::internal::kEmptyString) {
+    delete galt_;
+  }
+  if (lots_ != &::google::protobuf::internal::kEmptyString) {
+    delete lots_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FederateProxyState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateProxyState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateProxyState_descriptor_;
+}
+
+const FederateProxyState& FederateProxyState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateProxyState* FederateProxyState::default_instance_ = NULL;
+
+FederateProxyState* FederateProxyState::New() const {
+  return new FederateProxyState;
+}
+
+void FederateProxyState::Clear() {
+  if (_has_bits_[2 / 32] & (0xffu << (2 % 32))) {
+    timeregulationenabled_ = false;
+    if (has_lookahead()) {
+      if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+        lookahead_->clear();
+      }
+    }
+    timeconstrainedenabled_ = false;
+    timeconstrainedpending_ = false;
+    advancerequesttype_ = 1;
+    if (has_advancerequesttime()) {
+      if (advancerequesttime_ != &::google::protobuf::internal::kEmptyString) {
+        advancerequesttime_->clear();
+      }
+    }
+  }
+  if (_has_bits_[8 / 32] & (0xffu << (8 % 32))) {
+    if (has_federatetime()) {
+      if (federatetime_ != &::google::protobuf::internal::kEmptyString) {
+        federatetime_->clear();
+      }
+    }
+    if (has_galt()) {
+      if (galt_ != &::google::protobuf::internal::kEmptyString) {
+        galt_->clear();
+      }
+    }
+    if (has_lots()) {
+      if (lots_ != &::google::protobuf::internal::kEmptyString) {
+        lots_->clear();
+      }
+    }
+    discoveredobjectinstancehandlecount_ = 0u;
+  }
+  publishedobjectclasses_.Clear();
+  publishedinteractionclasses_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateProxyState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .ohla.rti.proto.PublishedObjectClass publishedObjectClasses = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_publishedObjectClasses:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_publishedobjectclasses()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_publishedObjectClasses;
+        if (input->ExpectTag(16)) goto parse_publishedInteractionClasses;
+        break;
+      }
+
+      // repeated uint32 publishedInteractionClasses = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_publishedInteractionClasses:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_publishedinteractionclasses())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_publishedinteractionclasses())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_publishedInteractionClasses;
+        if (input->ExpectTag(24)) goto parse_timeRegulationEnabled;
+        break;
+      }
+
+      // required bool timeRegulationEnabled = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_timeRegulationEnabled:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &timeregulationenabled_)));
+          set_has_timeregulationenabled();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_lookahead;
+        break;
+      }
+
+      // optional bytes lookahead = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_lookahead:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_lookahead()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(40)) goto parse_timeConstrainedEnabled;
+        break;
+      }
+
+      // required bool timeConstrainedEnabled = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_timeConstrainedEnabled:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &timeconstrainedenabled_)));
+          set_has_timeconstrainedenabled();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(48)) goto parse_timeConstrainedPending;
+        break;
+      }
+
+      // required bool timeConstrainedPending = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_timeConstrainedPending:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &timeconstrainedpending_)));
+          set_has_timeconstrainedpending();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(56)) goto parse_advanceRequestType;
+        break;
+      }
+
+      // required .ohla.rti.proto.AdvanceRequestType advanceRequestType = 7;
+      case 7: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_advanceRequestType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::AdvanceRequestType_IsValid(value)) {
+            set_advancerequesttype(static_cast< ::ohla::rti::proto::AdvanceRequestType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(7, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(66)) goto parse_advanceRequestTime;
+        break;
+      }
+
+      // optional bytes advanceRequestTime = 8;
+      case 8: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_advanceRequestTime:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_advancerequesttime()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(74)) goto parse_federateTime;
+        break;
+      }
+
+      // required bytes federateTime = 9;
+      case 9: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_federateTime:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_federatetime()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(82)) goto parse_galt;
+        break;
+      }
+
+      // optional bytes galt = 10;
+      case 10: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_galt:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_galt()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(90)) goto parse_lots;
+        break;
+      }
+
+      // optional bytes lots = 11;
+      case 11: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_lots:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_lots()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(96)) goto parse_discoveredObjectInstanceHandleCount;
+        break;
+      }
+
+      // required uint32 discoveredObjectInstanceHandleCount = 12;
+      case 12: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_discoveredObjectInstanceHandleCount:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &discoveredobjectinstancehandlecount_)));
+          set_has_discoveredobjectinstancehandlecount();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateProxyState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .ohla.rti.proto.PublishedObjectClass publishedObjectClasses = 1;
+  for (int i = 0; i < this->publishedobjectclasses_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->publishedobjectclasses(i), output);
+  }
+
+  // repeated uint32 publishedInteractionClasses = 2;
+  for (int i = 0; i < this->publishedinteractionclasses_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->publishedinteractionclasses(i), output);
+  }
+
+  // required bool timeRegulationEnabled = 3;
+  if (has_timeregulationenabled()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(3, this->timeregulationenabled(), output);
+  }
+
+  // optional bytes lookahead = 4;
+  if (has_lookahead()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      4, this->lookahead(), output);
+  }
+
+  // required bool timeConstrainedEnabled = 5;
+  if (has_timeconstrainedenabled()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(5, this->timeconstrainedenabled(), output);
+  }
+
+  // required bool timeConstrainedPending = 6;
+  if (has_timeconstrainedpending()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(6, this->timeconstrainedpending(), output);
+  }
+
+  // required .ohla.rti.proto.AdvanceRequestType advanceRequestType = 7;
+  if (has_advancerequesttype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      7, this->advancerequesttype(), output);
+  }
+
+  // optional bytes advanceRequestTime = 8;
+  if (has_advancerequesttime()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      8, this->advancerequesttime(), output);
+  }
+
+  // required bytes federateTime = 9;
+  if (has_federatetime()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      9, this->federatetime(), output);
+  }
+
+  // optional bytes galt = 10;
+  if (has_galt()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      10, this->galt(), output);
+  }
+
+  // optional bytes lots = 11;
+  if (has_lots()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      11, this->lots(), output);
+  }
+
+  // required uint32 discoveredObjectInstanceHandleCount = 12;
+  if (has_discoveredobjectinstancehandlecount()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(12, this->discoveredobjectinstancehandlecount(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateProxyState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .ohla.rti.proto.PublishedObjectClass publishedObjectClasses = 1;
+  for (int i = 0; i < this->publishedobjectclasses_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->publishedobjectclasses(i), target);
+  }
+
+  // repeated uint32 publishedInteractionClasses = 2;
+  for (int i = 0; i < this->publishedinteractionclasses_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->publishedinteractionclasses(i), target);
+  }
+
+  // required bool timeRegulationEnabled = 3;
+  if (has_timeregulationenabled()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(3, this->timeregulationenabled(), target);
+  }
+
+  // optional bytes lookahead = 4;
+  if (has_lookahead()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        4, this->lookahead(), target);
+  }
+
+  // required bool timeConstrainedEnabled = 5;
+  if (has_timeconstrainedenabled()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(5, this->timeconstrainedenabled(), target);
+  }
+
+  // required bool timeConstrainedPending = 6;
+  if (has_timeconstrainedpending()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(6, this->timeconstrainedpending(), target);
+  }
+
+  // required .ohla.rti.proto.AdvanceRequestType advanceRequestType = 7;
+  if (has_advancerequesttype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      7, this->advancerequesttype(), target);
+  }
+
+  // optional bytes advanceRequestTime = 8;
+  if (has_advancerequesttime()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        8, this->advancerequesttime(), target);
+  }
+
+  // required bytes federateTime = 9;
+  if (has_federatetime()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        9, this->federatetime(), target);
+  }
+
+  // optional bytes galt = 10;
+  if (has_galt()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        10, this->galt(), target);
+  }
+
+  // optional bytes lots = 11;
+  if (has_lots()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        11, this->lots(), target);
+  }
+
+  // required uint32 discoveredObjectInstanceHandleCount = 12;
+  if (has_discoveredobjectinstancehandlecount()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(12, this->discoveredobjectinstancehandlecount(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateProxyState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[2 / 32] & (0xffu << (2 % 32))) {
+    // required bool timeRegulationEnabled = 3;
+    if (has_timeregulationenabled()) {
+      total_size += 1 + 1;
+    }
+
+    // optional bytes lookahead = 4;
+    if (has_lookahead()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->lookahead());
+    }
+
+    // required bool timeConstrainedEnabled = 5;
+    if (has_timeconstrainedenabled()) {
+      total_size += 1 + 1;
+    }
+
+    // required bool timeConstrainedPending = 6;
+    if (has_timeconstrainedpending()) {
+      total_size += 1 + 1;
+    }
+
+    // required .ohla.rti.proto.AdvanceRequestType advanceRequestType = 7;
+    if (has_advancerequesttype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->advancerequesttype());
+    }
+
+    // optional bytes advanceRequestTime = 8;
+    if (has_advancerequesttime()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->advancerequesttime());
+    }
+
+  }
+  if (_has_bits_[8 / 32] & (0xffu << (8 % 32))) {
+    // required bytes federateTime = 9;
+    if (has_federatetime()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->federatetime());
+    }
+
+    // optional bytes galt = 10;
+    if (has_galt()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->galt());
+    }
+
+    // optional bytes lots = 11;
+    if (has_lots()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->lots());
+    }
+
+    // required uint32 discoveredObjectInstanceHandleCount = 12;
+    if (has_discoveredobjectinstancehandlecount()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->discoveredobjectinstancehandlecount());
+    }
+
+  }
+  // repeated .ohla.rti.proto.PublishedObjectClass publishedObjectClasses = 1;
+  total_size += 1 * this->publishedobjectclasses_size();
+  for (int i = 0; i < this->publishedobjectclasses_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->publishedobjectclasses(i));
+  }
+
+  // repeated uint32 publishedInteractionClasses = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->publishedinteractionclasses_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->publishedinteractionclasses(i));
+    }
+    total_size += 1 * this->publishedinteractionclasses_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateProxyState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateProxyState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateProxyState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateProxyState::MergeFrom(const FederateProxyState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  publishedobjectclasses_.MergeFrom(from.publishedobjectclasses_);
+  publishedinteractionclasses_.MergeFrom(from.publishedinteractionclasses_);
+  if (from._has_bits_[2 / 32] & (0xffu << (2 % 32))) {
+    if (from.has_timeregulationenabled()) {
+      set_timeregulationenabled(from.timeregulationenabled());
+    }
+    if (from.has_lookahead()) {
+      set_lookahead(from.lookahead());
+    }
+    if (from.has_timeconstrainedenabled()) {
+      set_timeconstrainedenabled(from.timeconstrainedenabled());
+    }
+    if (from.has_timeconstrainedpending()) {
+      set_timeconstrainedpending(from.timeconstrainedpending());
+    }
+    if (from.has_advancerequesttype()) {
+      set_advancerequesttype(from.advancerequesttype());
+    }
+    if (from.has_advancerequesttime()) {
+      set_advancerequesttime(from.advancerequesttime());
+    }
+  }
+  if (from._has_bits_[8 / 32] & (0xffu << (8 % 32))) {
+    if (from.has_federatetime()) {
+      set_federatetime(from.federatetime());
+    }
+    if (from.has_galt()) {
+      set_galt(from.galt());
+    }
+    if (from.has_lots()) {
+      set_lots(from.lots());
+    }
+    if (from.has_discoveredobjectinstancehandlecount()) {
+      set_discoveredobjectinstancehandlecount(from.discoveredobjectinstancehandlecount());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateProxyState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateProxyState::CopyFrom(const FederateProxyState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateProxyState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000974) != 0x00000974) return false;
+
+  for (int i = 0; i < publishedobjectclasses_size(); i++) {
+    if (!this->publishedobjectclasses(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FederateProxyState::Swap(FederateProxyState* other) {
+  if (other != this) {
+    publishedobjectclasses_.Swap(&other->publishedobjectclasses_);
+    publishedinteractionclasses_.Swap(&other->publishedinteractionclasses_);
+    std::swap(timeregulationenabled_, other->timeregulationenabled_);
+    std::swap(lookahead_, other->lookahead_);
+    std::swap(timeconstrainedenabled_, other->timeconstrainedenabled_);
+    std::swap(timeconstrainedpending_, other->timeconstrainedpending_);
+    std::swap(advancerequesttype_, other->advancerequesttype_);
+    std::swap(advancerequesttime_, other->advancerequesttime_);
+    std::swap(federatetime_, other->federatetime_);
+    std::swap(galt_, other->galt_);
+    std::swap(lots_, other->lots_);
+    std::swap(discoveredobjectinstancehandlecount_, other->discoveredobjectinstancehandlecount_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateProxyState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateProxyState_descriptor_;
+  metadata.reflection = FederateProxyState_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FederationExecutionState_FederationExecutionSynchonizationPointState::kLabelFieldNumber;
+const int FederationExecutionState_FederationExecutionSynchonizationPointState::kTagFieldNumber;
+const int FederationExecutionState_FederationExecutionSynchonizationPointState::kFederateHandlesFieldNumber;
+const int FederationExecutionState_FederationExecutionSynchonizationPointState::kExclusiveFieldNumber;
+const int FederationExecutionState_FederationExecutionSynchonizationPointState::kAwaitingSynchronizationFieldNumber;
+const int FederationExecutionState_FederationExecutionSynchonizationPointState::kFailedToSynchronizeFieldNumber;
+#endif  // !_MSC_VER
+
+FederationExecutionState_FederationExecutionSynchonizationPointState::FederationExecutionState_FederationExecutionSynchonizationPointState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationExecutionState_FederationExecutionSynchonizationPointState::InitAsDefaultInstance() {
+}
+
+FederationExecutionState_FederationExecutionSynchonizationPointState::FederationExecutionState_FederationExecutionSynchonizationPointState(const FederationExecutionState_FederationExecutionSynchonizationPointState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionSynchonizationPointState::SharedCtor() {
+  _cached_size_ = 0;
+  label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  exclusive_ = false;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationExecutionState_FederationExecutionSynchonizationPointState::~FederationExecutionState_FederationExecutionSynchonizationPointState() {
+  SharedDtor();
+}
+
+void FederationExecutionState_FederationExecutionSynchonizationPointState::SharedDtor() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FederationExecutionState_FederationExecutionSynchonizationPointState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionSynchonizationPointState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationExecutionState_FederationExecutionSynchonizationPointState_descriptor_;
+}
+
+const FederationExecutionState_FederationExecutionSynchonizationPointState& FederationExecutionState_FederationExecutionSynchonizationPointState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationExecutionState_FederationExecutionSynchonizationPointState* FederationExecutionState_FederationExecutionSynchonizationPointState::default_instance_ = NULL;
+
+FederationExecutionState_FederationExecutionSynchonizationPointState* FederationExecutionState_FederationExecutionSynchonizationPointState::New() const {
+  return new FederationExecutionState_FederationExecutionSynchonizationPointState;
+}
+
+void FederationExecutionState_FederationExecutionSynchonizationPointState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_label()) {
+      if (label_ != &::google::protobuf::internal::kEmptyString) {
+        label_->clear();
+      }
+    }
+    if (has_tag()) {
+      if (tag_ != &::google::protobuf::internal::kEmptyString) {
+        tag_->clear();
+      }
+    }
+    exclusive_ = false;
+  }
+  federatehandles_.Clear();
+  awaitingsynchronization_.Clear();
+  failedtosynchronize_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationExecutionState_FederationExecutionSynchonizationPointState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string label = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_label()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->label().data(), this->label().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_tag;
+        break;
+      }
+
+      // optional bytes tag = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_tag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_tag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_federateHandles;
+        break;
+      }
+
+      // repeated uint32 federateHandles = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_federateHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 24, input, this->mutable_federatehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_federatehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_federateHandles;
+        if (input->ExpectTag(32)) goto parse_exclusive;
+        break;
+      }
+
+      // required bool exclusive = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_exclusive:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &exclusive_)));
+          set_has_exclusive();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(40)) goto parse_awaitingSynchronization;
+        break;
+      }
+
+      // repeated uint32 awaitingSynchronization = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_awaitingSynchronization:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 40, input, this->mutable_awaitingsynchronization())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_awaitingsynchronization())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(40)) goto parse_awaitingSynchronization;
+        if (input->ExpectTag(48)) goto parse_failedToSynchronize;
+        break;
+      }
+
+      // repeated uint32 failedToSynchronize = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_failedToSynchronize:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 48, input, this->mutable_failedtosynchronize())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_failedtosynchronize())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(48)) goto parse_failedToSynchronize;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationExecutionState_FederationExecutionSynchonizationPointState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->label(), output);
+  }
+
+  // optional bytes tag = 2;
+  if (has_tag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      2, this->tag(), output);
+  }
+
+  // repeated uint32 federateHandles = 3;
+  for (int i = 0; i < this->federatehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      3, this->federatehandles(i), output);
+  }
+
+  // required bool exclusive = 4;
+  if (has_exclusive()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(4, this->exclusive(), output);
+  }
+
+  // repeated uint32 awaitingSynchronization = 5;
+  for (int i = 0; i < this->awaitingsynchronization_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      5, this->awaitingsynchronization(i), output);
+  }
+
+  // repeated uint32 failedToSynchronize = 6;
+  for (int i = 0; i < this->failedtosynchronize_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      6, this->failedtosynchronize(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationExecutionState_FederationExecutionSynchonizationPointState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string label = 1;
+  if (has_label()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->label().data(), this->label().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->label(), target);
+  }
+
+  // optional bytes tag = 2;
+  if (has_tag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        2, this->tag(), target);
+  }
+
+  // repeated uint32 federateHandles = 3;
+  for (int i = 0; i < this->federatehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(3, this->federatehandles(i), target);
+  }
+
+  // required bool exclusive = 4;
+  if (has_exclusive()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(4, this->exclusive(), target);
+  }
+
+  // repeated uint32 awaitingSynchronization = 5;
+  for (int i = 0; i < this->awaitingsynchronization_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(5, this->awaitingsynchronization(i), target);
+  }
+
+  // repeated uint32 failedToSynchronize = 6;
+  for (int i = 0; i < this->failedtosynchronize_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(6, this->failedtosynchronize(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationExecutionState_FederationExecutionSynchonizationPointState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string label = 1;
+    if (has_label()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->label());
+    }
+
+    // optional bytes tag = 2;
+    if (has_tag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->tag());
+    }
+
+    // required bool exclusive = 4;
+    if (has_exclusive()) {
+      total_size += 1 + 1;
+    }
+
+  }
+  // repeated uint32 federateHandles = 3;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->federatehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->federatehandles(i));
+    }
+    total_size += 1 * this->federatehandles_size() + data_size;
+  }
+
+  // repeated uint32 awaitingSynchronization = 5;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->awaitingsynchronization_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->awaitingsynchronization(i));
+    }
+    total_size += 1 * this->awaitingsynchronization_size() + data_size;
+  }
+
+  // repeated uint32 failedToSynchronize = 6;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->failedtosynchronize_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->failedtosynchronize(i));
+    }
+    total_size += 1 * this->failedtosynchronize_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationExecutionState_FederationExecutionSynchonizationPointState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationExecutionState_FederationExecutionSynchonizationPointState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationExecutionState_FederationExecutionSynchonizationPointState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationExecutionState_FederationExecutionSynchonizationPointState::MergeFrom(const FederationExecutionState_FederationExecutionSynchonizationPointState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  federatehandles_.MergeFrom(from.federatehandles_);
+  awaitingsynchronization_.MergeFrom(from.awaitingsynchronization_);
+  failedtosynchronize_.MergeFrom(from.failedtosynchronize_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_label()) {
+      set_label(from.label());
+    }
+    if (from.has_tag()) {
+      set_tag(from.tag());
+    }
+    if (from.has_exclusive()) {
+      set_exclusive(from.exclusive());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationExecutionState_FederationExecutionSynchonizationPointState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionSynchonizationPointState::CopyFrom(const FederationExecutionState_FederationExecutionSynchonizationPointState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationExecutionState_FederationExecutionSynchonizationPointState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000009) != 0x00000009) return false;
+
+  return true;
+}
+
+void FederationExecutionState_FederationExecutionSynchonizationPointState::Swap(FederationExecutionState_FederationExecutionSynchonizationPointState* other) {
+  if (other != this) {
+    std::swap(label_, other->label_);
+    std::swap(tag_, other->tag_);
+    federatehandles_.Swap(&other->federatehandles_);
+    std::swap(exclusive_, other->exclusive_);
+    awaitingsynchronization_.Swap(&other->awaitingsynchronization_);
+    failedtosynchronize_.Swap(&other->failedtosynchronize_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationExecutionState_FederationExecutionSynchonizationPointState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationExecutionState_FederationExecutionSynchonizationPointState_descriptor_;
+  metadata.reflection = FederationExecutionState_FederationExecutionSynchonizationPointState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::kObjectInstanceNameFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::kFederateHandleFieldNumber;
+#endif  // !_MSC_VER
+
+FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::InitAsDefaultInstance() {
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName(const FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::SharedCtor() {
+  _cached_size_ = 0;
+  objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  federatehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::~FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName() {
+  SharedDtor();
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::SharedDtor() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName_descriptor_;
+}
+
+const FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName& FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName* FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::default_instance_ = NULL;
+
+FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName* FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::New() const {
+  return new FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_objectinstancename()) {
+      if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+        objectinstancename_->clear();
+      }
+    }
+    federatehandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string objectInstanceName = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_objectinstancename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancename().data(), this->objectinstancename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_federateHandle;
+        break;
+      }
+
+      // required uint32 federateHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_federateHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatehandle_)));
+          set_has_federatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string objectInstanceName = 1;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->objectinstancename(), output);
+  }
+
+  // required uint32 federateHandle = 2;
+  if (has_federatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->federatehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string objectInstanceName = 1;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->objectinstancename(), target);
+  }
+
+  // required uint32 federateHandle = 2;
+  if (has_federatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->federatehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string objectInstanceName = 1;
+    if (has_objectinstancename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->objectinstancename());
+    }
+
+    // required uint32 federateHandle = 2;
+    if (has_federatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::MergeFrom(const FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectinstancename()) {
+      set_objectinstancename(from.objectinstancename());
+    }
+    if (from.has_federatehandle()) {
+      set_federatehandle(from.federatehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::CopyFrom(const FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::Swap(FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName* other) {
+  if (other != this) {
+    std::swap(objectinstancename_, other->objectinstancename_);
+    std::swap(federatehandle_, other->federatehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName_descriptor_;
+  metadata.reflection = FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::kFederateHandleFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::kRegionHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::InitAsDefaultInstance() {
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::SharedCtor() {
+  _cached_size_ = 0;
+  federatehandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::~FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation() {
+  SharedDtor();
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation_descriptor_;
+}
+
+const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation& FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::default_instance_ = NULL;
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::New() const {
+  return new FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    federatehandle_ = 0u;
+  }
+  regionhandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 federateHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatehandle_)));
+          set_has_federatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_regionHandles;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_regionHandles:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_regionhandles()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_regionHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 federateHandle = 1;
+  if (has_federatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->federatehandle(), output);
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+  for (int i = 0; i < this->regionhandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->regionhandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 federateHandle = 1;
+  if (has_federatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->federatehandle(), target);
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+  for (int i = 0; i < this->regionhandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->regionhandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 federateHandle = 1;
+    if (has_federatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatehandle());
+    }
+
+  }
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+  total_size += 1 * this->regionhandles_size();
+  for (int i = 0; i < this->regionhandles_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->regionhandles(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::MergeFrom(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  regionhandles_.MergeFrom(from.regionhandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_federatehandle()) {
+      set_federatehandle(from.federatehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::CopyFrom(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  for (int i = 0; i < regionhandles_size(); i++) {
+    if (!this->regionhandles(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::Swap(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation* other) {
+  if (other != this) {
+    std::swap(federatehandle_, other->federatehandle_);
+    regionhandles_.Swap(&other->regionhandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation_descriptor_;
+  metadata.reflection = FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::kAttributeHandleFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::kUpdateRateFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::kTransportationTypeHandleFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::kOrderTypeFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::kOwningFederateHandleFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::kWantsToDivestFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::kDivestingTagFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::kRequestingOwnershipFederateHandlesFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::kRegionRealizationsFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::kPendingRegionAssociationsFieldNumber;
+#endif  // !_MSC_VER
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::InitAsDefaultInstance() {
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::SharedCtor() {
+  _cached_size_ = 0;
+  attributehandle_ = 0u;
+  updaterate_ = 0;
+  transportationtypehandle_ = 0u;
+  ordertype_ = 1;
+  owningfederatehandle_ = 0u;
+  wantstodivest_ = false;
+  divestingtag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::~FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState() {
+  SharedDtor();
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::SharedDtor() {
+  if (divestingtag_ != &::google::protobuf::internal::kEmptyString) {
+    delete divestingtag_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_descriptor_;
+}
+
+const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState& FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::default_instance_ = NULL;
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::New() const {
+  return new FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    attributehandle_ = 0u;
+    updaterate_ = 0;
+    transportationtypehandle_ = 0u;
+    ordertype_ = 1;
+    owningfederatehandle_ = 0u;
+    wantstodivest_ = false;
+    if (has_divestingtag()) {
+      if (divestingtag_ != &::google::protobuf::internal::kEmptyString) {
+        divestingtag_->clear();
+      }
+    }
+  }
+  requestingownershipfederatehandles_.Clear();
+  regionrealizations_.Clear();
+  pendingregionassociations_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 attributeHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &attributehandle_)));
+          set_has_attributehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(17)) goto parse_updateRate;
+        break;
+      }
+
+      // required double updateRate = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED64) {
+         parse_updateRate:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   double, ::google::protobuf::internal::WireFormatLite::TYPE_DOUBLE>(
+                 input, &updaterate_)));
+          set_has_updaterate();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_transportationTypeHandle;
+        break;
+      }
+
+      // required uint32 transportationTypeHandle = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_transportationTypeHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &transportationtypehandle_)));
+          set_has_transportationtypehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_orderType;
+        break;
+      }
+
+      // required .ohla.rti.proto.OrderType orderType = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_orderType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::OrderType_IsValid(value)) {
+            set_ordertype(static_cast< ::ohla::rti::proto::OrderType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(4, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(40)) goto parse_owningFederateHandle;
+        break;
+      }
+
+      // optional uint32 owningFederateHandle = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_owningFederateHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &owningfederatehandle_)));
+          set_has_owningfederatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(48)) goto parse_wantsToDivest;
+        break;
+      }
+
+      // required bool wantsToDivest = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_wantsToDivest:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &wantstodivest_)));
+          set_has_wantstodivest();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(58)) goto parse_divestingTag;
+        break;
+      }
+
+      // optional bytes divestingTag = 7;
+      case 7: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_divestingTag:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_divestingtag()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(64)) goto parse_requestingOwnershipFederateHandles;
+        break;
+      }
+
+      // repeated uint32 requestingOwnershipFederateHandles = 8;
+      case 8: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_requestingOwnershipFederateHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 64, input, this->mutable_requestingownershipfederatehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_requestingownershipfederatehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(64)) goto parse_requestingOwnershipFederateHandles;
+        if (input->ExpectTag(74)) goto parse_regionRealizations;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.RegionHandle regionRealizations = 9;
+      case 9: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_regionRealizations:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_regionrealizations()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(74)) goto parse_regionRealizations;
+        if (input->ExpectTag(82)) goto parse_pendingRegionAssociations;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState.FederationExecutionAttributeInstanceState.PendingRegionAssociation pendingRegionAssociations = 10;
+      case 10: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_pendingRegionAssociations:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_pendingregionassociations()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(82)) goto parse_pendingRegionAssociations;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 attributeHandle = 1;
+  if (has_attributehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->attributehandle(), output);
+  }
+
+  // required double updateRate = 2;
+  if (has_updaterate()) {
+    ::google::protobuf::internal::WireFormatLite::WriteDouble(2, this->updaterate(), output);
+  }
+
+  // required uint32 transportationTypeHandle = 3;
+  if (has_transportationtypehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(3, this->transportationtypehandle(), output);
+  }
+
+  // required .ohla.rti.proto.OrderType orderType = 4;
+  if (has_ordertype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      4, this->ordertype(), output);
+  }
+
+  // optional uint32 owningFederateHandle = 5;
+  if (has_owningfederatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(5, this->owningfederatehandle(), output);
+  }
+
+  // required bool wantsToDivest = 6;
+  if (has_wantstodivest()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(6, this->wantstodivest(), output);
+  }
+
+  // optional bytes divestingTag = 7;
+  if (has_divestingtag()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      7, this->divestingtag(), output);
+  }
+
+  // repeated uint32 requestingOwnershipFederateHandles = 8;
+  for (int i = 0; i < this->requestingownershipfederatehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      8, this->requestingownershipfederatehandles(i), output);
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle regionRealizations = 9;
+  for (int i = 0; i < this->regionrealizations_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      9, this->regionrealizations(i), output);
+  }
+
+  // repeated .ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState.FederationExecutionAttributeInstanceState.PendingRegionAssociation pendingRegionAssociations = 10;
+  for (int i = 0; i < this->pendingregionassociations_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      10, this->pendingregionassociations(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 attributeHandle = 1;
+  if (has_attributehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->attributehandle(), target);
+  }
+
+  // required double updateRate = 2;
+  if (has_updaterate()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteDoubleToArray(2, this->updaterate(), target);
+  }
+
+  // required uint32 transportationTypeHandle = 3;
+  if (has_transportationtypehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(3, this->transportationtypehandle(), target);
+  }
+
+  // required .ohla.rti.proto.OrderType orderType = 4;
+  if (has_ordertype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      4, this->ordertype(), target);
+  }
+
+  // optional uint32 owningFederateHandle = 5;
+  if (has_owningfederatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(5, this->owningfederatehandle(), target);
+  }
+
+  // required bool wantsToDivest = 6;
+  if (has_wantstodivest()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(6, this->wantstodivest(), target);
+  }
+
+  // optional bytes divestingTag = 7;
+  if (has_divestingtag()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        7, this->divestingtag(), target);
+  }
+
+  // repeated uint32 requestingOwnershipFederateHandles = 8;
+  for (int i = 0; i < this->requestingownershipfederatehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(8, this->requestingownershipfederatehandles(i), target);
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle regionRealizations = 9;
+  for (int i = 0; i < this->regionrealizations_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        9, this->regionrealizations(i), target);
+  }
+
+  // repeated .ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState.FederationExecutionAttributeInstanceState.PendingRegionAssociation pendingRegionAssociations = 10;
+  for (int i = 0; i < this->pendingregionassociations_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        10, this->pendingregionassociations(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 attributeHandle = 1;
+    if (has_attributehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->attributehandle());
+    }
+
+    // required double updateRate = 2;
+    if (has_updaterate()) {
+      total_size += 1 + 8;
+    }
+
+    // required uint32 transportationTypeHandle = 3;
+    if (has_transportationtypehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->transportationtypehandle());
+    }
+
+    // required .ohla.rti.proto.OrderType orderType = 4;
+    if (has_ordertype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->ordertype());
+    }
+
+    // optional uint32 owningFederateHandle = 5;
+    if (has_owningfederatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->owningfederatehandle());
+    }
+
+    // required bool wantsToDivest = 6;
+    if (has_wantstodivest()) {
+      total_size += 1 + 1;
+    }
+
+    // optional bytes divestingTag = 7;
+    if (has_divestingtag()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->divestingtag());
+    }
+
+  }
+  // repeated uint32 requestingOwnershipFederateHandles = 8;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->requestingownershipfederatehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->requestingownershipfederatehandles(i));
+    }
+    total_size += 1 * this->requestingownershipfederatehandles_size() + data_size;
+  }
+
+  // repeated .ohla.rti.proto.RegionHandle regionRealizations = 9;
+  total_size += 1 * this->regionrealizations_size();
+  for (int i = 0; i < this->regionrealizations_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->regionrealizations(i));
+  }
+
+  // repeated .ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState.FederationExecutionAttributeInstanceState.PendingRegionAssociation pendingRegionAssociations = 10;
+  total_size += 1 * this->pendingregionassociations_size();
+  for (int i = 0; i < this->pendingregionassociations_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->pendingregionassociations(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::MergeFrom(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  requestingownershipfederatehandles_.MergeFrom(from.requestingownershipfederatehandles_);
+  regionrealizations_.MergeFrom(from.regionrealizations_);
+  pendingregionassociations_.MergeFrom(from.pendingregionassociations_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_attributehandle()) {
+      set_attributehandle(from.attributehandle());
+    }
+    if (from.has_updaterate()) {
+      set_updaterate(from.updaterate());
+    }
+    if (from.has_transportationtypehandle()) {
+      set_transportationtypehandle(from.transportationtypehandle());
+    }
+    if (from.has_ordertype()) {
+      set_ordertype(from.ordertype());
+    }
+    if (from.has_owningfederatehandle()) {
+      set_owningfederatehandle(from.owningfederatehandle());
+    }
+    if (from.has_wantstodivest()) {
+      set_wantstodivest(from.wantstodivest());
+    }
+    if (from.has_divestingtag()) {
+      set_divestingtag(from.divestingtag());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::CopyFrom(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000002f) != 0x0000002f) return false;
+
+  for (int i = 0; i < regionrealizations_size(); i++) {
+    if (!this->regionrealizations(i).IsInitialized()) return false;
+  }
+  for (int i = 0; i < pendingregionassociations_size(); i++) {
+    if (!this->pendingregionassociations(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::Swap(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState* other) {
+  if (other != this) {
+    std::swap(attributehandle_, other->attributehandle_);
+    std::swap(updaterate_, other->updaterate_);
+    std::swap(transportationtypehandle_, other->transportationtypehandle_);
+    std::swap(ordertype_, other->ordertype_);
+    std::swap(owningfederatehandle_, other->owningfederatehandle_);
+    std::swap(wantstodivest_, other->wantstodivest_);
+    std::swap(divestingtag_, other->divestingtag_);
+    requestingownershipfederatehandles_.Swap(&other->requestingownershipfederatehandles_);
+    regionrealizations_.Swap(&other->regionrealizations_);
+    pendingregionassociations_.Swap(&other->pendingregionassociations_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_descriptor_;
+  metadata.reflection = FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::kProducingFederateHandleFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::kObjectInstanceHandleFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::kObjectClassHandleFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::kObjectInstanceNameFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::kAttributeInstanceStatesFieldNumber;
+#endif  // !_MSC_VER
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::InitAsDefaultInstance() {
+  objectinstancehandle_ = const_cast< ::ohla::rti::proto::ObjectInstanceHandle*>(&::ohla::rti::proto::ObjectInstanceHandle::default_instance());
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::SharedCtor() {
+  _cached_size_ = 0;
+  producingfederatehandle_ = 0u;
+  objectinstancehandle_ = NULL;
+  objectclasshandle_ = 0u;
+  objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::~FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState() {
+  SharedDtor();
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::SharedDtor() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (this != default_instance_) {
+    delete objectinstancehandle_;
+  }
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_descriptor_;
+}
+
+const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState& FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::default_instance_ = NULL;
+
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::New() const {
+  return new FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    producingfederatehandle_ = 0u;
+    if (has_objectinstancehandle()) {
+      if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+    }
+    objectclasshandle_ = 0u;
+    if (has_objectinstancename()) {
+      if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+        objectinstancename_->clear();
+      }
+    }
+  }
+  attributeinstancestates_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 producingFederateHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &producingfederatehandle_)));
+          set_has_producingfederatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_objectInstanceHandle;
+        break;
+      }
+
+      // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceHandle:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_objectinstancehandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_objectClassHandle;
+        break;
+      }
+
+      // required uint32 objectClassHandle = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_objectClassHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_objectInstanceName;
+        break;
+      }
+
+      // required string objectInstanceName = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectInstanceName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_objectinstancename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectinstancename().data(), this->objectinstancename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(42)) goto parse_attributeInstanceStates;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState.FederationExecutionAttributeInstanceState attributeInstanceStates = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_attributeInstanceStates:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_attributeinstancestates()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(42)) goto parse_attributeInstanceStates;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 producingFederateHandle = 1;
+  if (has_producingfederatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->producingfederatehandle(), output);
+  }
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->objectinstancehandle(), output);
+  }
+
+  // required uint32 objectClassHandle = 3;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(3, this->objectclasshandle(), output);
+  }
+
+  // required string objectInstanceName = 4;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      4, this->objectinstancename(), output);
+  }
+
+  // repeated .ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState.FederationExecutionAttributeInstanceState attributeInstanceStates = 5;
+  for (int i = 0; i < this->attributeinstancestates_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      5, this->attributeinstancestates(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 producingFederateHandle = 1;
+  if (has_producingfederatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->producingfederatehandle(), target);
+  }
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->objectinstancehandle(), target);
+  }
+
+  // required uint32 objectClassHandle = 3;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(3, this->objectclasshandle(), target);
+  }
+
+  // required string objectInstanceName = 4;
+  if (has_objectinstancename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectinstancename().data(), this->objectinstancename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        4, this->objectinstancename(), target);
+  }
+
+  // repeated .ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState.FederationExecutionAttributeInstanceState attributeInstanceStates = 5;
+  for (int i = 0; i < this->attributeinstancestates_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        5, this->attributeinstancestates(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 producingFederateHandle = 1;
+    if (has_producingfederatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->producingfederatehandle());
+    }
+
+    // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->objectinstancehandle());
+    }
+
+    // required uint32 objectClassHandle = 3;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+    // required string objectInstanceName = 4;
+    if (has_objectinstancename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->objectinstancename());
+    }
+
+  }
+  // repeated .ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState.FederationExecutionAttributeInstanceState attributeInstanceStates = 5;
+  total_size += 1 * this->attributeinstancestates_size();
+  for (int i = 0; i < this->attributeinstancestates_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->attributeinstancestates(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::MergeFrom(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributeinstancestates_.MergeFrom(from.attributeinstancestates_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_producingfederatehandle()) {
+      set_producingfederatehandle(from.producingfederatehandle());
+    }
+    if (from.has_objectinstancehandle()) {
+      mutable_objectinstancehandle()->::ohla::rti::proto::ObjectInstanceHandle::MergeFrom(from.objectinstancehandle());
+    }
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+    if (from.has_objectinstancename()) {
+      set_objectinstancename(from.objectinstancename());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::CopyFrom(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000000f) != 0x0000000f) return false;
+
+  if (has_objectinstancehandle()) {
+    if (!this->objectinstancehandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < attributeinstancestates_size(); i++) {
+    if (!this->attributeinstancestates(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::Swap(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState* other) {
+  if (other != this) {
+    std::swap(producingfederatehandle_, other->producingfederatehandle_);
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    std::swap(objectinstancename_, other->objectinstancename_);
+    attributeinstancestates_.Swap(&other->attributeinstancestates_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_descriptor_;
+  metadata.reflection = FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederationExecutionState_FederationExecutionObjectManagerState::kReservedObjectInstanceNameCountFieldNumber;
+const int FederationExecutionState_FederationExecutionObjectManagerState::kObjectInstanceStateCountFieldNumber;
+#endif  // !_MSC_VER
+
+FederationExecutionState_FederationExecutionObjectManagerState::FederationExecutionState_FederationExecutionObjectManagerState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState::InitAsDefaultInstance() {
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState::FederationExecutionState_FederationExecutionObjectManagerState(const FederationExecutionState_FederationExecutionObjectManagerState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState::SharedCtor() {
+  _cached_size_ = 0;
+  reservedobjectinstancenamecount_ = 0u;
+  objectinstancestatecount_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState::~FederationExecutionState_FederationExecutionObjectManagerState() {
+  SharedDtor();
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionObjectManagerState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationExecutionState_FederationExecutionObjectManagerState_descriptor_;
+}
+
+const FederationExecutionState_FederationExecutionObjectManagerState& FederationExecutionState_FederationExecutionObjectManagerState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationExecutionState_FederationExecutionObjectManagerState* FederationExecutionState_FederationExecutionObjectManagerState::default_instance_ = NULL;
+
+FederationExecutionState_FederationExecutionObjectManagerState* FederationExecutionState_FederationExecutionObjectManagerState::New() const {
+  return new FederationExecutionState_FederationExecutionObjectManagerState;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    reservedobjectinstancenamecount_ = 0u;
+    objectinstancestatecount_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationExecutionState_FederationExecutionObjectManagerState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 reservedObjectInstanceNameCount = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &reservedobjectinstancenamecount_)));
+          set_has_reservedobjectinstancenamecount();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_objectInstanceStateCount;
+        break;
+      }
+
+      // required uint32 objectInstanceStateCount = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_objectInstanceStateCount:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectinstancestatecount_)));
+          set_has_objectinstancestatecount();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 reservedObjectInstanceNameCount = 1;
+  if (has_reservedobjectinstancenamecount()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->reservedobjectinstancenamecount(), output);
+  }
+
+  // required uint32 objectInstanceStateCount = 2;
+  if (has_objectinstancestatecount()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->objectinstancestatecount(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationExecutionState_FederationExecutionObjectManagerState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 reservedObjectInstanceNameCount = 1;
+  if (has_reservedobjectinstancenamecount()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->reservedobjectinstancenamecount(), target);
+  }
+
+  // required uint32 objectInstanceStateCount = 2;
+  if (has_objectinstancestatecount()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->objectinstancestatecount(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationExecutionState_FederationExecutionObjectManagerState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 reservedObjectInstanceNameCount = 1;
+    if (has_reservedobjectinstancenamecount()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->reservedobjectinstancenamecount());
+    }
+
+    // required uint32 objectInstanceStateCount = 2;
+    if (has_objectinstancestatecount()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectinstancestatecount());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationExecutionState_FederationExecutionObjectManagerState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationExecutionState_FederationExecutionObjectManagerState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState::MergeFrom(const FederationExecutionState_FederationExecutionObjectManagerState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_reservedobjectinstancenamecount()) {
+      set_reservedobjectinstancenamecount(from.reservedobjectinstancenamecount());
+    }
+    if (from.has_objectinstancestatecount()) {
+      set_objectinstancestatecount(from.objectinstancestatecount());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState::CopyFrom(const FederationExecutionState_FederationExecutionObjectManagerState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationExecutionState_FederationExecutionObjectManagerState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void FederationExecutionState_FederationExecutionObjectManagerState::Swap(FederationExecutionState_FederationExecutionObjectManagerState* other) {
+  if (other != this) {
+    std::swap(reservedobjectinstancenamecount_, other->reservedobjectinstancenamecount_);
+    std::swap(objectinstancestatecount_, other->objectinstancestatecount_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationExecutionState_FederationExecutionObjectManagerState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationExecutionState_FederationExecutionObjectManagerState_descriptor_;
+  metadata.reflection = FederationExecutionState_FederationExecutionObjectManagerState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::kRegionHandleFieldNumber;
+const int FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::kRangeBoundsFieldNumber;
+#endif  // !_MSC_VER
+
+FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::InitAsDefaultInstance() {
+  regionhandle_ = const_cast< ::ohla::rti::proto::RegionHandle*>(&::ohla::rti::proto::RegionHandle::default_instance());
+}
+
+FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState(const FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::SharedCtor() {
+  _cached_size_ = 0;
+  regionhandle_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::~FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState() {
+  SharedDtor();
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::SharedDtor() {
+  if (this != default_instance_) {
+    delete regionhandle_;
+  }
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState_descriptor_;
+}
+
+const FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState& FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState* FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::default_instance_ = NULL;
+
+FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState* FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::New() const {
+  return new FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState;
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_regionhandle()) {
+      if (regionhandle_ != NULL) regionhandle_->::ohla::rti::proto::RegionHandle::Clear();
+    }
+  }
+  rangebounds_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_regionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_rangeBounds;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.DimensionRangeBound rangeBounds = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_rangeBounds:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_rangebounds()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_rangeBounds;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  if (has_regionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->regionhandle(), output);
+  }
+
+  // repeated .ohla.rti.proto.DimensionRangeBound rangeBounds = 2;
+  for (int i = 0; i < this->rangebounds_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->rangebounds(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  if (has_regionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->regionhandle(), target);
+  }
+
+  // repeated .ohla.rti.proto.DimensionRangeBound rangeBounds = 2;
+  for (int i = 0; i < this->rangebounds_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->rangebounds(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+    if (has_regionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->regionhandle());
+    }
+
+  }
+  // repeated .ohla.rti.proto.DimensionRangeBound rangeBounds = 2;
+  total_size += 1 * this->rangebounds_size();
+  for (int i = 0; i < this->rangebounds_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->rangebounds(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::MergeFrom(const FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  rangebounds_.MergeFrom(from.rangebounds_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_regionhandle()) {
+      mutable_regionhandle()->::ohla::rti::proto::RegionHandle::MergeFrom(from.regionhandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::CopyFrom(const FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_regionhandle()) {
+    if (!this->regionhandle().IsInitialized()) return false;
+  }
+  for (int i = 0; i < rangebounds_size(); i++) {
+    if (!this->rangebounds(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::Swap(FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState* other) {
+  if (other != this) {
+    std::swap(regionhandle_, other->regionhandle_);
+    rangebounds_.Swap(&other->rangebounds_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState_descriptor_;
+  metadata.reflection = FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederationExecutionState_FederationExecutionRegionManagerState::kRegionStateCountFieldNumber;
+#endif  // !_MSC_VER
+
+FederationExecutionState_FederationExecutionRegionManagerState::FederationExecutionState_FederationExecutionRegionManagerState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState::InitAsDefaultInstance() {
+}
+
+FederationExecutionState_FederationExecutionRegionManagerState::FederationExecutionState_FederationExecutionRegionManagerState(const FederationExecutionState_FederationExecutionRegionManagerState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState::SharedCtor() {
+  _cached_size_ = 0;
+  regionstatecount_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationExecutionState_FederationExecutionRegionManagerState::~FederationExecutionState_FederationExecutionRegionManagerState() {
+  SharedDtor();
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionRegionManagerState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationExecutionState_FederationExecutionRegionManagerState_descriptor_;
+}
+
+const FederationExecutionState_FederationExecutionRegionManagerState& FederationExecutionState_FederationExecutionRegionManagerState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationExecutionState_FederationExecutionRegionManagerState* FederationExecutionState_FederationExecutionRegionManagerState::default_instance_ = NULL;
+
+FederationExecutionState_FederationExecutionRegionManagerState* FederationExecutionState_FederationExecutionRegionManagerState::New() const {
+  return new FederationExecutionState_FederationExecutionRegionManagerState;
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    regionstatecount_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationExecutionState_FederationExecutionRegionManagerState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 regionStateCount = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &regionstatecount_)));
+          set_has_regionstatecount();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 regionStateCount = 1;
+  if (has_regionstatecount()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->regionstatecount(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationExecutionState_FederationExecutionRegionManagerState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 regionStateCount = 1;
+  if (has_regionstatecount()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->regionstatecount(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationExecutionState_FederationExecutionRegionManagerState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 regionStateCount = 1;
+    if (has_regionstatecount()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->regionstatecount());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationExecutionState_FederationExecutionRegionManagerState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationExecutionState_FederationExecutionRegionManagerState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState::MergeFrom(const FederationExecutionState_FederationExecutionRegionManagerState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_regionstatecount()) {
+      set_regionstatecount(from.regionstatecount());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState::CopyFrom(const FederationExecutionState_FederationExecutionRegionManagerState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationExecutionState_FederationExecutionRegionManagerState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void FederationExecutionState_FederationExecutionRegionManagerState::Swap(FederationExecutionState_FederationExecutionRegionManagerState* other) {
+  if (other != this) {
+    std::swap(regionstatecount_, other->regionstatecount_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationExecutionState_FederationExecutionRegionManagerState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationExecutionState_FederationExecutionRegionManagerState_descriptor_;
+  metadata.reflection = FederationExecutionState_FederationExecutionRegionManagerState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederationExecutionState_FederationExecutionTimeManagerState::kTimeRegulatingFederateHandlesFieldNumber;
+const int FederationExecutionState_FederationExecutionTimeManagerState::kTimeConstrainedFederateHandlesFieldNumber;
+const int FederationExecutionState_FederationExecutionTimeManagerState::kGaltFieldNumber;
+#endif  // !_MSC_VER
+
+FederationExecutionState_FederationExecutionTimeManagerState::FederationExecutionState_FederationExecutionTimeManagerState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationExecutionState_FederationExecutionTimeManagerState::InitAsDefaultInstance() {
+}
+
+FederationExecutionState_FederationExecutionTimeManagerState::FederationExecutionState_FederationExecutionTimeManagerState(const FederationExecutionState_FederationExecutionTimeManagerState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionTimeManagerState::SharedCtor() {
+  _cached_size_ = 0;
+  galt_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationExecutionState_FederationExecutionTimeManagerState::~FederationExecutionState_FederationExecutionTimeManagerState() {
+  SharedDtor();
+}
+
+void FederationExecutionState_FederationExecutionTimeManagerState::SharedDtor() {
+  if (galt_ != &::google::protobuf::internal::kEmptyString) {
+    delete galt_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FederationExecutionState_FederationExecutionTimeManagerState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationExecutionState_FederationExecutionTimeManagerState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationExecutionState_FederationExecutionTimeManagerState_descriptor_;
+}
+
+const FederationExecutionState_FederationExecutionTimeManagerState& FederationExecutionState_FederationExecutionTimeManagerState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationExecutionState_FederationExecutionTimeManagerState* FederationExecutionState_FederationExecutionTimeManagerState::default_instance_ = NULL;
+
+FederationExecutionState_FederationExecutionTimeManagerState* FederationExecutionState_FederationExecutionTimeManagerState::New() const {
+  return new FederationExecutionState_FederationExecutionTimeManagerState;
+}
+
+void FederationExecutionState_FederationExecutionTimeManagerState::Clear() {
+  if (_has_bits_[2 / 32] & (0xffu << (2 % 32))) {
+    if (has_galt()) {
+      if (galt_ != &::google::protobuf::internal::kEmptyString) {
+        galt_->clear();
+      }
+    }
+  }
+  timeregulatingfederatehandles_.Clear();
+  timeconstrainedfederatehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationExecutionState_FederationExecutionTimeManagerState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated uint32 timeRegulatingFederateHandles = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_timeRegulatingFederateHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 8, input, this->mutable_timeregulatingfederatehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_timeregulatingfederatehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(8)) goto parse_timeRegulatingFederateHandles;
+        if (input->ExpectTag(16)) goto parse_timeConstrainedFederateHandles;
+        break;
+      }
+
+      // repeated uint32 timeConstrainedFederateHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_timeConstrainedFederateHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_timeconstrainedfederatehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_timeconstrainedfederatehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_timeConstrainedFederateHandles;
+        if (input->ExpectTag(26)) goto parse_galt;
+        break;
+      }
+
+      // optional bytes galt = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_galt:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_galt()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationExecutionState_FederationExecutionTimeManagerState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated uint32 timeRegulatingFederateHandles = 1;
+  for (int i = 0; i < this->timeregulatingfederatehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      1, this->timeregulatingfederatehandles(i), output);
+  }
+
+  // repeated uint32 timeConstrainedFederateHandles = 2;
+  for (int i = 0; i < this->timeconstrainedfederatehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->timeconstrainedfederatehandles(i), output);
+  }
+
+  // optional bytes galt = 3;
+  if (has_galt()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      3, this->galt(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationExecutionState_FederationExecutionTimeManagerState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated uint32 timeRegulatingFederateHandles = 1;
+  for (int i = 0; i < this->timeregulatingfederatehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(1, this->timeregulatingfederatehandles(i), target);
+  }
+
+  // repeated uint32 timeConstrainedFederateHandles = 2;
+  for (int i = 0; i < this->timeconstrainedfederatehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->timeconstrainedfederatehandles(i), target);
+  }
+
+  // optional bytes galt = 3;
+  if (has_galt()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        3, this->galt(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationExecutionState_FederationExecutionTimeManagerState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[2 / 32] & (0xffu << (2 % 32))) {
+    // optional bytes galt = 3;
+    if (has_galt()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->galt());
+    }
+
+  }
+  // repeated uint32 timeRegulatingFederateHandles = 1;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->timeregulatingfederatehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->timeregulatingfederatehandles(i));
+    }
+    total_size += 1 * this->timeregulatingfederatehandles_size() + data_size;
+  }
+
+  // repeated uint32 timeConstrainedFederateHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->timeconstrainedfederatehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->timeconstrainedfederatehandles(i));
+    }
+    total_size += 1 * this->timeconstrainedfederatehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationExecutionState_FederationExecutionTimeManagerState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationExecutionState_FederationExecutionTimeManagerState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationExecutionState_FederationExecutionTimeManagerState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationExecutionState_FederationExecutionTimeManagerState::MergeFrom(const FederationExecutionState_FederationExecutionTimeManagerState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  timeregulatingfederatehandles_.MergeFrom(from.timeregulatingfederatehandles_);
+  timeconstrainedfederatehandles_.MergeFrom(from.timeconstrainedfederatehandles_);
+  if (from._has_bits_[2 / 32] & (0xffu << (2 % 32))) {
+    if (from.has_galt()) {
+      set_galt(from.galt());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationExecutionState_FederationExecutionTimeManagerState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationExecutionState_FederationExecutionTimeManagerState::CopyFrom(const FederationExecutionState_FederationExecutionTimeManagerState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationExecutionState_FederationExecutionTimeManagerState::IsInitialized() const {
+
+  return true;
+}
+
+void FederationExecutionState_FederationExecutionTimeManagerState::Swap(FederationExecutionState_FederationExecutionTimeManagerState* other) {
+  if (other != this) {
+    timeregulatingfederatehandles_.Swap(&other->timeregulatingfederatehandles_);
+    timeconstrainedfederatehandles_.Swap(&other->timeconstrainedfederatehandles_);
+    std::swap(galt_, other->galt_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationExecutionState_FederationExecutionTimeManagerState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationExecutionState_FederationExecutionTimeManagerState_descriptor_;
+  metadata.reflection = FederationExecutionState_FederationExecutionTimeManagerState_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FederationExecutionState::kNextFederateHandleFieldNumber;
+const int FederationExecutionState::kSynchonizationPointStateCountFieldNumber;
+#endif  // !_MSC_VER
+
+FederationExecutionState::FederationExecutionState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederationExecutionState::InitAsDefaultInstance() {
+}
+
+FederationExecutionState::FederationExecutionState(const FederationExecutionState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederationExecutionState::SharedCtor() {
+  _cached_size_ = 0;
+  nextfederatehandle_ = 0u;
+  synchonizationpointstatecount_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederationExecutionState::~FederationExecutionState() {
+  SharedDtor();
+}
+
+void FederationExecutionState::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void FederationExecutionState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederationExecutionState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederationExecutionState_descriptor_;
+}
+
+const FederationExecutionState& FederationExecutionState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+FederationExecutionState* FederationExecutionState::default_instance_ = NULL;
+
+FederationExecutionState* FederationExecutionState::New() const {
+  return new FederationExecutionState;
+}
+
+void FederationExecutionState::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    nextfederatehandle_ = 0u;
+    synchonizationpointstatecount_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederationExecutionState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 nextFederateHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &nextfederatehandle_)));
+          set_has_nextfederatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_synchonizationPointStateCount;
+        break;
+      }
+
+      // required uint32 synchonizationPointStateCount = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_synchonizationPointStateCount:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &synchonizationpointstatecount_)));
+          set_has_synchonizationpointstatecount();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederationExecutionState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 nextFederateHandle = 1;
+  if (has_nextfederatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->nextfederatehandle(), output);
+  }
+
+  // required uint32 synchonizationPointStateCount = 2;
+  if (has_synchonizationpointstatecount()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->synchonizationpointstatecount(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederationExecutionState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 nextFederateHandle = 1;
+  if (has_nextfederatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->nextfederatehandle(), target);
+  }
+
+  // required uint32 synchonizationPointStateCount = 2;
+  if (has_synchonizationpointstatecount()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->synchonizationpointstatecount(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederationExecutionState::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 nextFederateHandle = 1;
+    if (has_nextfederatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->nextfederatehandle());
+    }
+
+    // required uint32 synchonizationPointStateCount = 2;
+    if (has_synchonizationpointstatecount()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->synchonizationpointstatecount());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederationExecutionState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederationExecutionState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederationExecutionState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederationExecutionState::MergeFrom(const FederationExecutionState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_nextfederatehandle()) {
+      set_nextfederatehandle(from.nextfederatehandle());
+    }
+    if (from.has_synchonizationpointstatecount()) {
+      set_synchonizationpointstatecount(from.synchonizationpointstatecount());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederationExecutionState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederationExecutionState::CopyFrom(const FederationExecutionState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederationExecutionState::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void FederationExecutionState::Swap(FederationExecutionState* other) {
+  if (other != this) {
+    std::swap(nextfederatehandle_, other->nextfederatehandle_);
+    std::swap(synchonizationpointstatecount_, other->synchonizationpointstatecount_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederationExecutionState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederationExecutionState_descriptor_;
+  metadata.reflection = FederationExecutionState_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int SavedFederationExecutionMessage::kSendingFederateHandleFieldNumber;
+const int SavedFederationExecutionMessage::kFederationExecutionMessageTypeFieldNumber;
+#endif  // !_MSC_VER
+
+SavedFederationExecutionMessage::SavedFederationExecutionMessage()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void SavedFederationExecutionMessage::InitAsDefaultInstance() {
+}
+
+SavedFederationExecutionMessage::SavedFederationExecutionMessage(const SavedFederationExecutionMessage& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void SavedFederationExecutionMessage::SharedCtor() {
+  _cached_size_ = 0;
+  sendingfederatehandle_ = 0u;
+  federationexecutionmessagetype_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+SavedFederationExecutionMessage::~SavedFederationExecutionMessage() {
+  SharedDtor();
+}
+
+void SavedFederationExecutionMessage::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void SavedFederationExecutionMessage::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* SavedFederationExecutionMessage::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return SavedFederationExecutionMessage_descriptor_;
+}
+
+const SavedFederationExecutionMessage& SavedFederationExecutionMessage::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  return *default_instance_;
+}
+
+SavedFederationExecutionMessage* SavedFederationExecutionMessage::default_instance_ = NULL;
+
+SavedFederationExecutionMessage* SavedFederationExecutionMessage::New() const {
+  return new SavedFederationExecutionMessage;
+}
+
+void SavedFederationExecutionMessage::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    sendingfederatehandle_ = 0u;
+    federationexecutionmessagetype_ = 1;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool SavedFederationExecutionMessage::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 sendingFederateHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &sendingfederatehandle_)));
+          set_has_sendingfederatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_federationExecutionMessageType;
+        break;
+      }
+
+      // required .ohla.rti.messages.proto.MessageType federationExecutionMessageType = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_federationExecutionMessageType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::messages::proto::MessageType_IsValid(value)) {
+            set_federationexecutionmessagetype(static_cast< ::ohla::rti::messages::proto::MessageType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(2, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void SavedFederationExecutionMessage::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 sendingFederateHandle = 1;
+  if (has_sendingfederatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->sendingfederatehandle(), output);
+  }
+
+  // required .ohla.rti.messages.proto.MessageType federationExecutionMessageType = 2;
+  if (has_federationexecutionmessagetype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      2, this->federationexecutionmessagetype(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* SavedFederationExecutionMessage::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 sendingFederateHandle = 1;
+  if (has_sendingfederatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->sendingfederatehandle(), target);
+  }
+
+  // required .ohla.rti.messages.proto.MessageType federationExecutionMessageType = 2;
+  if (has_federationexecutionmessagetype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      2, this->federationexecutionmessagetype(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int SavedFederationExecutionMessage::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 sendingFederateHandle = 1;
+    if (has_sendingfederatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->sendingfederatehandle());
+    }
+
+    // required .ohla.rti.messages.proto.MessageType federationExecutionMessageType = 2;
+    if (has_federationexecutionmessagetype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->federationexecutionmessagetype());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void SavedFederationExecutionMessage::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const SavedFederationExecutionMessage* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const SavedFederationExecutionMessage*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void SavedFederationExecutionMessage::MergeFrom(const SavedFederationExecutionMessage& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_sendingfederatehandle()) {
+      set_sendingfederatehandle(from.sendingfederatehandle());
+    }
+    if (from.has_federationexecutionmessagetype()) {
+      set_federationexecutionmessagetype(from.federationexecutionmessagetype());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void SavedFederationExecutionMessage::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void SavedFederationExecutionMessage::CopyFrom(const SavedFederationExecutionMessage& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool SavedFederationExecutionMessage::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void SavedFederationExecutionMessage::Swap(SavedFederationExecutionMessage* other) {
+  if (other != this) {
+    std::swap(sendingfederatehandle_, other->sendingfederatehandle_);
+    std::swap(federationexecutionmessagetype_, other->federationexecutionmessagetype_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata SavedFederationExecutionMessage::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = SavedFederationExecutionMessage_descriptor_;
+  metadata.reflection = SavedFederationExecutionMessage_reflection_;
+  return metadata;
+}
+
+
+// @@protoc_insertion_point(namespace_scope)
+
+}  // namespace proto
+}  // namespace rti
+}  // namespace ohla
+
+// @@protoc_insertion_point(global_scope)
@@ -0,0 +1,8516 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: FederationExecutionSaveProtos.proto
+
+#ifndef PROTOBUF_FederationExecutionSaveProtos_2eproto__INCLUDED
+#define PROTOBUF_FederationExecutionSaveProtos_2eproto__INCLUDED
+
+#include <string>
+
+#include <google/protobuf/stubs/common.h>
+
+#if GOOGLE_PROTOBUF_VERSION < 2005000
+#error This file was generated by a newer version of protoc which is
+#error incompatible with your Protocol Buffer headers.  Please update
+#error your headers.
+#endif
+#if 2005000 < GOOGLE_PROTOBUF_MIN_PROTOC_VERSION
+#error This file was generated by an older version of protoc which is
+#error incompatible with your Protocol Buffer headers.  Please
+#error regenerate this file with a newer version of protoc.
+#endif
+
+#include <google/protobuf/generated_message_util.h>
+#include <google/protobuf/message.h>
+#include <google/protobuf/repeated_field.h>
+#include <google/protobuf/extension_set.h>
+#include <google/protobuf/generated_enum_reflection.h>
+#include <google/protobuf/unknown_field_set.h>
+#include "OHLAProtos.pb.h"
+#include "MessageProtos.pb.h"
+#include "FederationExecutionMessageProtos.pb.h"
+// @@protoc_insertion_point(includes)
+
+namespace ohla {
+namespace rti {
+namespace proto {
+
+// Internal implementation detail -- do not call these.
+void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+class FederationExecutionSaveHeader;
+class FederateSaveHeader;
+class HLA13RTIAmbassadorState;
+class HLA13RTIAmbassadorState_ObjectInstanceHandleMapping;
+class HLA13RTIAmbassadorState_HLA13RegionState;
+class HLA13RTIAmbassadorState_HLA13RegionState_ExtentState;
+class HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds;
+class FederateState;
+class FederateState_FederateSynchonizationPointState;
+class FederateState_FederateObjectManagerState;
+class FederateState_FederateObjectManagerState_FederateObjectInstanceState;
+class FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState;
+class FederateState_FederateRegionManagerState;
+class FederateState_FederateRegionManagerState_FederateRegionState;
+class FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject;
+class FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass;
+class FederateState_FederateMessageRetractionManagerState;
+class FederateState_FederateMessageRetractionManagerState_MessageRetraction;
+class FederateState_FederateTimeManagerState;
+class TimeStampOrderedMessageQueueState;
+class TimeStampOrderedMessageQueueState_TimeStampOrderedMessage;
+class FederateProxyState;
+class FederationExecutionState;
+class FederationExecutionState_FederationExecutionSynchonizationPointState;
+class FederationExecutionState_FederationExecutionObjectManagerState;
+class FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName;
+class FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState;
+class FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState;
+class FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation;
+class FederationExecutionState_FederationExecutionRegionManagerState;
+class FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState;
+class FederationExecutionState_FederationExecutionTimeManagerState;
+class SavedFederationExecutionMessage;
+
+enum FederateState_FederateSynchonizationPointState_State {
+  FederateState_FederateSynchonizationPointState_State_MOVING_TO_SYNCH_POINT = 1,
+  FederateState_FederateSynchonizationPointState_State_WAITING_FOR_REST_OF_FEDERATION_TO_SYNCHRONIZE = 2
+};
+bool FederateState_FederateSynchonizationPointState_State_IsValid(int value);
+const FederateState_FederateSynchonizationPointState_State FederateState_FederateSynchonizationPointState_State_State_MIN = FederateState_FederateSynchonizationPointState_State_MOVING_TO_SYNCH_POINT;
+const FederateState_FederateSynchonizationPointState_State FederateState_FederateSynchonizationPointState_State_State_MAX = FederateState_FederateSynchonizationPointState_State_WAITING_FOR_REST_OF_FEDERATION_TO_SYNCHRONIZE;
+const int FederateState_FederateSynchonizationPointState_State_State_ARRAYSIZE = FederateState_FederateSynchonizationPointState_State_State_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* FederateState_FederateSynchonizationPointState_State_descriptor();
+inline const ::std::string& FederateState_FederateSynchonizationPointState_State_Name(FederateState_FederateSynchonizationPointState_State value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    FederateState_FederateSynchonizationPointState_State_descriptor(), value);
+}
+inline bool FederateState_FederateSynchonizationPointState_State_Parse(
+    const ::std::string& name, FederateState_FederateSynchonizationPointState_State* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<FederateState_FederateSynchonizationPointState_State>(
+    FederateState_FederateSynchonizationPointState_State_descriptor(), name, value);
+}
+enum FederateState_FederateTimeManagerState_TemporalState {
+  FederateState_FederateTimeManagerState_TemporalState_TIME_ADVANCING = 1,
+  FederateState_FederateTimeManagerState_TemporalState_TIME_GRANTED = 2
+};
+bool FederateState_FederateTimeManagerState_TemporalState_IsValid(int value);
+const FederateState_FederateTimeManagerState_TemporalState FederateState_FederateTimeManagerState_TemporalState_TemporalState_MIN = FederateState_FederateTimeManagerState_TemporalState_TIME_ADVANCING;
+const FederateState_FederateTimeManagerState_TemporalState FederateState_FederateTimeManagerState_TemporalState_TemporalState_MAX = FederateState_FederateTimeManagerState_TemporalState_TIME_GRANTED;
+const int FederateState_FederateTimeManagerState_TemporalState_TemporalState_ARRAYSIZE = FederateState_FederateTimeManagerState_TemporalState_TemporalState_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* FederateState_FederateTimeManagerState_TemporalState_descriptor();
+inline const ::std::string& FederateState_FederateTimeManagerState_TemporalState_Name(FederateState_FederateTimeManagerState_TemporalState value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    FederateState_FederateTimeManagerState_TemporalState_descriptor(), value);
+}
+inline bool FederateState_FederateTimeManagerState_TemporalState_Parse(
+    const ::std::string& name, FederateState_FederateTimeManagerState_TemporalState* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<FederateState_FederateTimeManagerState_TemporalState>(
+    FederateState_FederateTimeManagerState_TemporalState_descriptor(), name, value);
+}
+enum FederateState_FederateTimeManagerState_TimeRegulatingState {
+  FederateState_FederateTimeManagerState_TimeRegulatingState_TIME_REGULATING = 1,
+  FederateState_FederateTimeManagerState_TimeRegulatingState_BECOMING_TIME_REGULATING = 2,
+  FederateState_FederateTimeManagerState_TimeRegulatingState_NOT_TIME_REGULATING = 3
+};
+bool FederateState_FederateTimeManagerState_TimeRegulatingState_IsValid(int value);
+const FederateState_FederateTimeManagerState_TimeRegulatingState FederateState_FederateTimeManagerState_TimeRegulatingState_TimeRegulatingState_MIN = FederateState_FederateTimeManagerState_TimeRegulatingState_TIME_REGULATING;
+const FederateState_FederateTimeManagerState_TimeRegulatingState FederateState_FederateTimeManagerState_TimeRegulatingState_TimeRegulatingState_MAX = FederateState_FederateTimeManagerState_TimeRegulatingState_NOT_TIME_REGULATING;
+const int FederateState_FederateTimeManagerState_TimeRegulatingState_TimeRegulatingState_ARRAYSIZE = FederateState_FederateTimeManagerState_TimeRegulatingState_TimeRegulatingState_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* FederateState_FederateTimeManagerState_TimeRegulatingState_descriptor();
+inline const ::std::string& FederateState_FederateTimeManagerState_TimeRegulatingState_Name(FederateState_FederateTimeManagerState_TimeRegulatingState value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    FederateState_FederateTimeManagerState_TimeRegulatingState_descriptor(), value);
+}
+inline bool FederateState_FederateTimeManagerState_TimeRegulatingState_Parse(
+    const ::std::string& name, FederateState_FederateTimeManagerState_TimeRegulatingState* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<FederateState_FederateTimeManagerState_TimeRegulatingState>(
+    FederateState_FederateTimeManagerState_TimeRegulatingState_descriptor(), name, value);
+}
+enum FederateState_FederateTimeManagerState_TimeConstrainedState {
+  FederateState_FederateTimeManagerState_TimeConstrainedState_TIME_CONSTRAINED = 1,
+  FederateState_FederateTimeManagerState_TimeConstrainedState_BECOMING_TIME_CONSTRAINED = 2,
+  FederateState_FederateTimeManagerState_TimeConstrainedState_NOT_TIME_CONSTRAINED = 3
+};
+bool FederateState_FederateTimeManagerState_TimeConstrainedState_IsValid(int value);
+const FederateState_FederateTimeManagerState_TimeConstrainedState FederateState_FederateTimeManagerState_TimeConstrainedState_TimeConstrainedState_MIN = FederateState_FederateTimeManagerState_TimeConstrainedState_TIME_CONSTRAINED;
+const FederateState_FederateTimeManagerState_TimeConstrainedState FederateState_FederateTimeManagerState_TimeConstrainedState_TimeConstrainedState_MAX = FederateState_FederateTimeManagerState_TimeConstrainedState_NOT_TIME_CONSTRAINED;
+const int FederateState_FederateTimeManagerState_TimeConstrainedState_TimeConstrainedState_ARRAYSIZE = FederateState_FederateTimeManagerState_TimeConstrainedState_TimeConstrainedState_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* FederateState_FederateTimeManagerState_TimeConstrainedState_descriptor();
+inline const ::std::string& FederateState_FederateTimeManagerState_TimeConstrainedState_Name(FederateState_FederateTimeManagerState_TimeConstrainedState value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    FederateState_FederateTimeManagerState_TimeConstrainedState_descriptor(), value);
+}
+inline bool FederateState_FederateTimeManagerState_TimeConstrainedState_Parse(
+    const ::std::string& name, FederateState_FederateTimeManagerState_TimeConstrainedState* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<FederateState_FederateTimeManagerState_TimeConstrainedState>(
+    FederateState_FederateTimeManagerState_TimeConstrainedState_descriptor(), name, value);
+}
+// ===================================================================
+
+class FederationExecutionSaveHeader : public ::google::protobuf::Message {
+ public:
+  FederationExecutionSaveHeader();
+  virtual ~FederationExecutionSaveHeader();
+
+  FederationExecutionSaveHeader(const FederationExecutionSaveHeader& from);
+
+  inline FederationExecutionSaveHeader& operator=(const FederationExecutionSaveHeader& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationExecutionSaveHeader& default_instance();
+
+  void Swap(FederationExecutionSaveHeader* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationExecutionSaveHeader* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationExecutionSaveHeader& from);
+  void MergeFrom(const FederationExecutionSaveHeader& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string label = 1;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 1;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // required string federationExecutionName = 2;
+  inline bool has_federationexecutionname() const;
+  inline void clear_federationexecutionname();
+  static const int kFederationExecutionNameFieldNumber = 2;
+  inline const ::std::string& federationexecutionname() const;
+  inline void set_federationexecutionname(const ::std::string& value);
+  inline void set_federationexecutionname(const char* value);
+  inline void set_federationexecutionname(const char* value, size_t size);
+  inline ::std::string* mutable_federationexecutionname();
+  inline ::std::string* release_federationexecutionname();
+  inline void set_allocated_federationexecutionname(::std::string* federationexecutionname);
+
+  // required uint32 federateCount = 3;
+  inline bool has_federatecount() const;
+  inline void clear_federatecount();
+  static const int kFederateCountFieldNumber = 3;
+  inline ::google::protobuf::uint32 federatecount() const;
+  inline void set_federatecount(::google::protobuf::uint32 value);
+
+  // optional bytes saveTime = 4;
+  inline bool has_savetime() const;
+  inline void clear_savetime();
+  static const int kSaveTimeFieldNumber = 4;
+  inline const ::std::string& savetime() const;
+  inline void set_savetime(const ::std::string& value);
+  inline void set_savetime(const char* value);
+  inline void set_savetime(const void* value, size_t size);
+  inline ::std::string* mutable_savetime();
+  inline ::std::string* release_savetime();
+  inline void set_allocated_savetime(::std::string* savetime);
+
+  // required .ohla.rti.proto.FDD fdd = 5;
+  inline bool has_fdd() const;
+  inline void clear_fdd();
+  static const int kFddFieldNumber = 5;
+  inline const ::ohla::rti::proto::FDD& fdd() const;
+  inline ::ohla::rti::proto::FDD* mutable_fdd();
+  inline ::ohla::rti::proto::FDD* release_fdd();
+  inline void set_allocated_fdd(::ohla::rti::proto::FDD* fdd);
+
+  // required uint64 realTime = 6;
+  inline bool has_realtime() const;
+  inline void clear_realtime();
+  static const int kRealTimeFieldNumber = 6;
+  inline ::google::protobuf::uint64 realtime() const;
+  inline void set_realtime(::google::protobuf::uint64 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederationExecutionSaveHeader)
+ private:
+  inline void set_has_label();
+  inline void clear_has_label();
+  inline void set_has_federationexecutionname();
+  inline void clear_has_federationexecutionname();
+  inline void set_has_federatecount();
+  inline void clear_has_federatecount();
+  inline void set_has_savetime();
+  inline void clear_has_savetime();
+  inline void set_has_fdd();
+  inline void clear_has_fdd();
+  inline void set_has_realtime();
+  inline void clear_has_realtime();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* label_;
+  ::std::string* federationexecutionname_;
+  ::std::string* savetime_;
+  ::ohla::rti::proto::FDD* fdd_;
+  ::google::protobuf::uint64 realtime_;
+  ::google::protobuf::uint32 federatecount_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(6 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationExecutionSaveHeader* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateSaveHeader : public ::google::protobuf::Message {
+ public:
+  FederateSaveHeader();
+  virtual ~FederateSaveHeader();
+
+  FederateSaveHeader(const FederateSaveHeader& from);
+
+  inline FederateSaveHeader& operator=(const FederateSaveHeader& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateSaveHeader& default_instance();
+
+  void Swap(FederateSaveHeader* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateSaveHeader* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateSaveHeader& from);
+  void MergeFrom(const FederateSaveHeader& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 federateHandle = 1;
+  inline bool has_federatehandle() const;
+  inline void clear_federatehandle();
+  static const int kFederateHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 federatehandle() const;
+  inline void set_federatehandle(::google::protobuf::uint32 value);
+
+  // required string federateName = 2;
+  inline bool has_federatename() const;
+  inline void clear_federatename();
+  static const int kFederateNameFieldNumber = 2;
+  inline const ::std::string& federatename() const;
+  inline void set_federatename(const ::std::string& value);
+  inline void set_federatename(const char* value);
+  inline void set_federatename(const char* value, size_t size);
+  inline ::std::string* mutable_federatename();
+  inline ::std::string* release_federatename();
+  inline void set_allocated_federatename(::std::string* federatename);
+
+  // required string federateType = 3;
+  inline bool has_federatetype() const;
+  inline void clear_federatetype();
+  static const int kFederateTypeFieldNumber = 3;
+  inline const ::std::string& federatetype() const;
+  inline void set_federatetype(const ::std::string& value);
+  inline void set_federatetype(const char* value);
+  inline void set_federatetype(const char* value, size_t size);
+  inline ::std::string* mutable_federatetype();
+  inline ::std::string* release_federatetype();
+  inline void set_allocated_federatetype(::std::string* federatetype);
+
+  // required uint64 federateStateLength = 4;
+  inline bool has_federatestatelength() const;
+  inline void clear_federatestatelength();
+  static const int kFederateStateLengthFieldNumber = 4;
+  inline ::google::protobuf::uint64 federatestatelength() const;
+  inline void set_federatestatelength(::google::protobuf::uint64 value);
+
+  // required uint64 federateProxyStateLength = 5;
+  inline bool has_federateproxystatelength() const;
+  inline void clear_federateproxystatelength();
+  static const int kFederateProxyStateLengthFieldNumber = 5;
+  inline ::google::protobuf::uint64 federateproxystatelength() const;
+  inline void set_federateproxystatelength(::google::protobuf::uint64 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederateSaveHeader)
+ private:
+  inline void set_has_federatehandle();
+  inline void clear_has_federatehandle();
+  inline void set_has_federatename();
+  inline void clear_has_federatename();
+  inline void set_has_federatetype();
+  inline void clear_has_federatetype();
+  inline void set_has_federatestatelength();
+  inline void clear_has_federatestatelength();
+  inline void set_has_federateproxystatelength();
+  inline void clear_has_federateproxystatelength();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* federatename_;
+  ::std::string* federatetype_;
+  ::google::protobuf::uint64 federatestatelength_;
+  ::google::protobuf::uint64 federateproxystatelength_;
+  ::google::protobuf::uint32 federatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(5 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateSaveHeader* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class HLA13RTIAmbassadorState_ObjectInstanceHandleMapping : public ::google::protobuf::Message {
+ public:
+  HLA13RTIAmbassadorState_ObjectInstanceHandleMapping();
+  virtual ~HLA13RTIAmbassadorState_ObjectInstanceHandleMapping();
+
+  HLA13RTIAmbassadorState_ObjectInstanceHandleMapping(const HLA13RTIAmbassadorState_ObjectInstanceHandleMapping& from);
+
+  inline HLA13RTIAmbassadorState_ObjectInstanceHandleMapping& operator=(const HLA13RTIAmbassadorState_ObjectInstanceHandleMapping& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const HLA13RTIAmbassadorState_ObjectInstanceHandleMapping& default_instance();
+
+  void Swap(HLA13RTIAmbassadorState_ObjectInstanceHandleMapping* other);
+
+  // implements Message ----------------------------------------------
+
+  HLA13RTIAmbassadorState_ObjectInstanceHandleMapping* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const HLA13RTIAmbassadorState_ObjectInstanceHandleMapping& from);
+  void MergeFrom(const HLA13RTIAmbassadorState_ObjectInstanceHandleMapping& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // required uint32 mapping = 2;
+  inline bool has_mapping() const;
+  inline void clear_mapping();
+  static const int kMappingFieldNumber = 2;
+  inline ::google::protobuf::uint32 mapping() const;
+  inline void set_mapping(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.HLA13RTIAmbassadorState.ObjectInstanceHandleMapping)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_mapping();
+  inline void clear_has_mapping();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::uint32 mapping_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static HLA13RTIAmbassadorState_ObjectInstanceHandleMapping* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds : public ::google::protobuf::Message {
+ public:
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds();
+  virtual ~HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds();
+
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds(const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds& from);
+
+  inline HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds& operator=(const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds& default_instance();
+
+  void Swap(HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds* other);
+
+  // implements Message ----------------------------------------------
+
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds& from);
+  void MergeFrom(const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 upper = 1;
+  inline bool has_upper() const;
+  inline void clear_upper();
+  static const int kUpperFieldNumber = 1;
+  inline ::google::protobuf::uint64 upper() const;
+  inline void set_upper(::google::protobuf::uint64 value);
+
+  // required uint64 lower = 2;
+  inline bool has_lower() const;
+  inline void clear_lower();
+  static const int kLowerFieldNumber = 2;
+  inline ::google::protobuf::uint64 lower() const;
+  inline void set_lower(::google::protobuf::uint64 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState.ExtentState.RangeBounds)
+ private:
+  inline void set_has_upper();
+  inline void clear_has_upper();
+  inline void set_has_lower();
+  inline void clear_has_lower();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 upper_;
+  ::google::protobuf::uint64 lower_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class HLA13RTIAmbassadorState_HLA13RegionState_ExtentState : public ::google::protobuf::Message {
+ public:
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState();
+  virtual ~HLA13RTIAmbassadorState_HLA13RegionState_ExtentState();
+
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState(const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState& from);
+
+  inline HLA13RTIAmbassadorState_HLA13RegionState_ExtentState& operator=(const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState& default_instance();
+
+  void Swap(HLA13RTIAmbassadorState_HLA13RegionState_ExtentState* other);
+
+  // implements Message ----------------------------------------------
+
+  HLA13RTIAmbassadorState_HLA13RegionState_ExtentState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState& from);
+  void MergeFrom(const HLA13RTIAmbassadorState_HLA13RegionState_ExtentState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds RangeBounds;
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  inline bool has_regionhandle() const;
+  inline void clear_regionhandle();
+  static const int kRegionHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::RegionHandle& regionhandle() const;
+  inline ::ohla::rti::proto::RegionHandle* mutable_regionhandle();
+  inline ::ohla::rti::proto::RegionHandle* release_regionhandle();
+  inline void set_allocated_regionhandle(::ohla::rti::proto::RegionHandle* regionhandle);
+
+  // repeated .ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState.ExtentState.RangeBounds rangeBounds = 2;
+  inline int rangebounds_size() const;
+  inline void clear_rangebounds();
+  static const int kRangeBoundsFieldNumber = 2;
+  inline const ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds& rangebounds(int index) const;
+  inline ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds* mutable_rangebounds(int index);
+  inline ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds* add_rangebounds();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds >&
+      rangebounds() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds >*
+      mutable_rangebounds();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState.ExtentState)
+ private:
+  inline void set_has_regionhandle();
+  inline void clear_has_regionhandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::RegionHandle* regionhandle_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds > rangebounds_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static HLA13RTIAmbassadorState_HLA13RegionState_ExtentState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class HLA13RTIAmbassadorState_HLA13RegionState : public ::google::protobuf::Message {
+ public:
+  HLA13RTIAmbassadorState_HLA13RegionState();
+  virtual ~HLA13RTIAmbassadorState_HLA13RegionState();
+
+  HLA13RTIAmbassadorState_HLA13RegionState(const HLA13RTIAmbassadorState_HLA13RegionState& from);
+
+  inline HLA13RTIAmbassadorState_HLA13RegionState& operator=(const HLA13RTIAmbassadorState_HLA13RegionState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const HLA13RTIAmbassadorState_HLA13RegionState& default_instance();
+
+  void Swap(HLA13RTIAmbassadorState_HLA13RegionState* other);
+
+  // implements Message ----------------------------------------------
+
+  HLA13RTIAmbassadorState_HLA13RegionState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const HLA13RTIAmbassadorState_HLA13RegionState& from);
+  void MergeFrom(const HLA13RTIAmbassadorState_HLA13RegionState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef HLA13RTIAmbassadorState_HLA13RegionState_ExtentState ExtentState;
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 token = 1;
+  inline bool has_token() const;
+  inline void clear_token();
+  static const int kTokenFieldNumber = 1;
+  inline ::google::protobuf::uint32 token() const;
+  inline void set_token(::google::protobuf::uint32 value);
+
+  // required uint32 routingSpaceHandle = 2;
+  inline bool has_routingspacehandle() const;
+  inline void clear_routingspacehandle();
+  static const int kRoutingSpaceHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 routingspacehandle() const;
+  inline void set_routingspacehandle(::google::protobuf::uint32 value);
+
+  // repeated .ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState.ExtentState extentStates = 3;
+  inline int extentstates_size() const;
+  inline void clear_extentstates();
+  static const int kExtentStatesFieldNumber = 3;
+  inline const ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState& extentstates(int index) const;
+  inline ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState* mutable_extentstates(int index);
+  inline ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState* add_extentstates();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState >&
+      extentstates() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState >*
+      mutable_extentstates();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState)
+ private:
+  inline void set_has_token();
+  inline void clear_has_token();
+  inline void set_has_routingspacehandle();
+  inline void clear_has_routingspacehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 token_;
+  ::google::protobuf::uint32 routingspacehandle_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState > extentstates_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static HLA13RTIAmbassadorState_HLA13RegionState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class HLA13RTIAmbassadorState : public ::google::protobuf::Message {
+ public:
+  HLA13RTIAmbassadorState();
+  virtual ~HLA13RTIAmbassadorState();
+
+  HLA13RTIAmbassadorState(const HLA13RTIAmbassadorState& from);
+
+  inline HLA13RTIAmbassadorState& operator=(const HLA13RTIAmbassadorState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const HLA13RTIAmbassadorState& default_instance();
+
+  void Swap(HLA13RTIAmbassadorState* other);
+
+  // implements Message ----------------------------------------------
+
+  HLA13RTIAmbassadorState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const HLA13RTIAmbassadorState& from);
+  void MergeFrom(const HLA13RTIAmbassadorState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef HLA13RTIAmbassadorState_ObjectInstanceHandleMapping ObjectInstanceHandleMapping;
+  typedef HLA13RTIAmbassadorState_HLA13RegionState HLA13RegionState;
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 nextObjectInstanceHandle = 1;
+  inline bool has_nextobjectinstancehandle() const;
+  inline void clear_nextobjectinstancehandle();
+  static const int kNextObjectInstanceHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 nextobjectinstancehandle() const;
+  inline void set_nextobjectinstancehandle(::google::protobuf::uint32 value);
+
+  // required uint32 nextRegionToken = 2;
+  inline bool has_nextregiontoken() const;
+  inline void clear_nextregiontoken();
+  static const int kNextRegionTokenFieldNumber = 2;
+  inline ::google::protobuf::uint32 nextregiontoken() const;
+  inline void set_nextregiontoken(::google::protobuf::uint32 value);
+
+  // required uint32 objectInstanceHandleMappingCount = 3;
+  inline bool has_objectinstancehandlemappingcount() const;
+  inline void clear_objectinstancehandlemappingcount();
+  static const int kObjectInstanceHandleMappingCountFieldNumber = 3;
+  inline ::google::protobuf::uint32 objectinstancehandlemappingcount() const;
+  inline void set_objectinstancehandlemappingcount(::google::protobuf::uint32 value);
+
+  // required uint32 regionCount = 4;
+  inline bool has_regioncount() const;
+  inline void clear_regioncount();
+  static const int kRegionCountFieldNumber = 4;
+  inline ::google::protobuf::uint32 regioncount() const;
+  inline void set_regioncount(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.HLA13RTIAmbassadorState)
+ private:
+  inline void set_has_nextobjectinstancehandle();
+  inline void clear_has_nextobjectinstancehandle();
+  inline void set_has_nextregiontoken();
+  inline void clear_has_nextregiontoken();
+  inline void set_has_objectinstancehandlemappingcount();
+  inline void clear_has_objectinstancehandlemappingcount();
+  inline void set_has_regioncount();
+  inline void clear_has_regioncount();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 nextobjectinstancehandle_;
+  ::google::protobuf::uint32 nextregiontoken_;
+  ::google::protobuf::uint32 objectinstancehandlemappingcount_;
+  ::google::protobuf::uint32 regioncount_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static HLA13RTIAmbassadorState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateState_FederateSynchonizationPointState : public ::google::protobuf::Message {
+ public:
+  FederateState_FederateSynchonizationPointState();
+  virtual ~FederateState_FederateSynchonizationPointState();
+
+  FederateState_FederateSynchonizationPointState(const FederateState_FederateSynchonizationPointState& from);
+
+  inline FederateState_FederateSynchonizationPointState& operator=(const FederateState_FederateSynchonizationPointState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateState_FederateSynchonizationPointState& default_instance();
+
+  void Swap(FederateState_FederateSynchonizationPointState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateState_FederateSynchonizationPointState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateState_FederateSynchonizationPointState& from);
+  void MergeFrom(const FederateState_FederateSynchonizationPointState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FederateState_FederateSynchonizationPointState_State State;
+  static const State MOVING_TO_SYNCH_POINT = FederateState_FederateSynchonizationPointState_State_MOVING_TO_SYNCH_POINT;
+  static const State WAITING_FOR_REST_OF_FEDERATION_TO_SYNCHRONIZE = FederateState_FederateSynchonizationPointState_State_WAITING_FOR_REST_OF_FEDERATION_TO_SYNCHRONIZE;
+  static inline bool State_IsValid(int value) {
+    return FederateState_FederateSynchonizationPointState_State_IsValid(value);
+  }
+  static const State State_MIN =
+    FederateState_FederateSynchonizationPointState_State_State_MIN;
+  static const State State_MAX =
+    FederateState_FederateSynchonizationPointState_State_State_MAX;
+  static const int State_ARRAYSIZE =
+    FederateState_FederateSynchonizationPointState_State_State_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  State_descriptor() {
+    return FederateState_FederateSynchonizationPointState_State_descriptor();
+  }
+  static inline const ::std::string& State_Name(State value) {
+    return FederateState_FederateSynchonizationPointState_State_Name(value);
+  }
+  static inline bool State_Parse(const ::std::string& name,
+      State* value) {
+    return FederateState_FederateSynchonizationPointState_State_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required string label = 1;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 1;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // optional bytes tag = 2;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 2;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // required .ohla.rti.proto.FederateState.FederateSynchonizationPointState.State state = 3;
+  inline bool has_state() const;
+  inline void clear_state();
+  static const int kStateFieldNumber = 3;
+  inline ::ohla::rti::proto::FederateState_FederateSynchonizationPointState_State state() const;
+  inline void set_state(::ohla::rti::proto::FederateState_FederateSynchonizationPointState_State value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederateState.FederateSynchonizationPointState)
+ private:
+  inline void set_has_label();
+  inline void clear_has_label();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+  inline void set_has_state();
+  inline void clear_has_state();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* label_;
+  ::std::string* tag_;
+  int state_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateState_FederateSynchonizationPointState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState : public ::google::protobuf::Message {
+ public:
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState();
+  virtual ~FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState();
+
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState(const FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState& from);
+
+  inline FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState& operator=(const FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState& default_instance();
+
+  void Swap(FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState& from);
+  void MergeFrom(const FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 attributeHandle = 1;
+  inline bool has_attributehandle() const;
+  inline void clear_attributehandle();
+  static const int kAttributeHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 attributehandle() const;
+  inline void set_attributehandle(::google::protobuf::uint32 value);
+
+  // required uint32 transportationTypeHandle = 2;
+  inline bool has_transportationtypehandle() const;
+  inline void clear_transportationtypehandle();
+  static const int kTransportationTypeHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 transportationtypehandle() const;
+  inline void set_transportationtypehandle(::google::protobuf::uint32 value);
+
+  // required .ohla.rti.proto.OrderType orderType = 3;
+  inline bool has_ordertype() const;
+  inline void clear_ordertype();
+  static const int kOrderTypeFieldNumber = 3;
+  inline ::ohla::rti::proto::OrderType ordertype() const;
+  inline void set_ordertype(::ohla::rti::proto::OrderType value);
+
+  // required bool divesting = 4;
+  inline bool has_divesting() const;
+  inline void clear_divesting();
+  static const int kDivestingFieldNumber = 4;
+  inline bool divesting() const;
+  inline void set_divesting(bool value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederateState.FederateObjectManagerState.FederateObjectInstanceState.FederateAttributeInstanceState)
+ private:
+  inline void set_has_attributehandle();
+  inline void clear_has_attributehandle();
+  inline void set_has_transportationtypehandle();
+  inline void clear_has_transportationtypehandle();
+  inline void set_has_ordertype();
+  inline void clear_has_ordertype();
+  inline void set_has_divesting();
+  inline void clear_has_divesting();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 attributehandle_;
+  ::google::protobuf::uint32 transportationtypehandle_;
+  int ordertype_;
+  bool divesting_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateState_FederateObjectManagerState_FederateObjectInstanceState : public ::google::protobuf::Message {
+ public:
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState();
+  virtual ~FederateState_FederateObjectManagerState_FederateObjectInstanceState();
+
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState(const FederateState_FederateObjectManagerState_FederateObjectInstanceState& from);
+
+  inline FederateState_FederateObjectManagerState_FederateObjectInstanceState& operator=(const FederateState_FederateObjectManagerState_FederateObjectInstanceState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateState_FederateObjectManagerState_FederateObjectInstanceState& default_instance();
+
+  void Swap(FederateState_FederateObjectManagerState_FederateObjectInstanceState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateState_FederateObjectManagerState_FederateObjectInstanceState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateState_FederateObjectManagerState_FederateObjectInstanceState& from);
+  void MergeFrom(const FederateState_FederateObjectManagerState_FederateObjectInstanceState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState FederateAttributeInstanceState;
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 producingFederateHandle = 1;
+  inline bool has_producingfederatehandle() const;
+  inline void clear_producingfederatehandle();
+  static const int kProducingFederateHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 producingfederatehandle() const;
+  inline void set_producingfederatehandle(::google::protobuf::uint32 value);
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 2;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // required uint32 objectClassHandle = 3;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 3;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // required string objectInstanceName = 4;
+  inline bool has_objectinstancename() const;
+  inline void clear_objectinstancename();
+  static const int kObjectInstanceNameFieldNumber = 4;
+  inline const ::std::string& objectinstancename() const;
+  inline void set_objectinstancename(const ::std::string& value);
+  inline void set_objectinstancename(const char* value);
+  inline void set_objectinstancename(const char* value, size_t size);
+  inline ::std::string* mutable_objectinstancename();
+  inline ::std::string* release_objectinstancename();
+  inline void set_allocated_objectinstancename(::std::string* objectinstancename);
+
+  // repeated .ohla.rti.proto.FederateState.FederateObjectManagerState.FederateObjectInstanceState.FederateAttributeInstanceState attributeInstanceStates = 5;
+  inline int attributeinstancestates_size() const;
+  inline void clear_attributeinstancestates();
+  static const int kAttributeInstanceStatesFieldNumber = 5;
+  inline const ::ohla::rti::proto::FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState& attributeinstancestates(int index) const;
+  inline ::ohla::rti::proto::FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState* mutable_attributeinstancestates(int index);
+  inline ::ohla::rti::proto::FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState* add_attributeinstancestates();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState >&
+      attributeinstancestates() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState >*
+      mutable_attributeinstancestates();
+
+  // repeated uint32 attributeHandlesBeingAcquired = 6;
+  inline int attributehandlesbeingacquired_size() const;
+  inline void clear_attributehandlesbeingacquired();
+  static const int kAttributeHandlesBeingAcquiredFieldNumber = 6;
+  inline ::google::protobuf::uint32 attributehandlesbeingacquired(int index) const;
+  inline void set_attributehandlesbeingacquired(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandlesbeingacquired(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandlesbeingacquired() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandlesbeingacquired();
+
+  // repeated uint32 attributeHandlesBeingAcquiredIfAvailable = 7;
+  inline int attributehandlesbeingacquiredifavailable_size() const;
+  inline void clear_attributehandlesbeingacquiredifavailable();
+  static const int kAttributeHandlesBeingAcquiredIfAvailableFieldNumber = 7;
+  inline ::google::protobuf::uint32 attributehandlesbeingacquiredifavailable(int index) const;
+  inline void set_attributehandlesbeingacquiredifavailable(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandlesbeingacquiredifavailable(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandlesbeingacquiredifavailable() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandlesbeingacquiredifavailable();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederateState.FederateObjectManagerState.FederateObjectInstanceState)
+ private:
+  inline void set_has_producingfederatehandle();
+  inline void clear_has_producingfederatehandle();
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+  inline void set_has_objectinstancename();
+  inline void clear_has_objectinstancename();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::uint32 producingfederatehandle_;
+  ::google::protobuf::uint32 objectclasshandle_;
+  ::std::string* objectinstancename_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState > attributeinstancestates_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandlesbeingacquired_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandlesbeingacquiredifavailable_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(7 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateState_FederateObjectManagerState_FederateObjectInstanceState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateState_FederateObjectManagerState : public ::google::protobuf::Message {
+ public:
+  FederateState_FederateObjectManagerState();
+  virtual ~FederateState_FederateObjectManagerState();
+
+  FederateState_FederateObjectManagerState(const FederateState_FederateObjectManagerState& from);
+
+  inline FederateState_FederateObjectManagerState& operator=(const FederateState_FederateObjectManagerState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateState_FederateObjectManagerState& default_instance();
+
+  void Swap(FederateState_FederateObjectManagerState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateState_FederateObjectManagerState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateState_FederateObjectManagerState& from);
+  void MergeFrom(const FederateState_FederateObjectManagerState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FederateState_FederateObjectManagerState_FederateObjectInstanceState FederateObjectInstanceState;
+
+  // accessors -------------------------------------------------------
+
+  // repeated .ohla.rti.proto.PublishedObjectClass publishedObjectClasses = 1;
+  inline int publishedobjectclasses_size() const;
+  inline void clear_publishedobjectclasses();
+  static const int kPublishedObjectClassesFieldNumber = 1;
+  inline const ::ohla::rti::proto::PublishedObjectClass& publishedobjectclasses(int index) const;
+  inline ::ohla::rti::proto::PublishedObjectClass* mutable_publishedobjectclasses(int index);
+  inline ::ohla::rti::proto::PublishedObjectClass* add_publishedobjectclasses();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::PublishedObjectClass >&
+      publishedobjectclasses() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::PublishedObjectClass >*
+      mutable_publishedobjectclasses();
+
+  // repeated uint32 publishedInteractionClasses = 2;
+  inline int publishedinteractionclasses_size() const;
+  inline void clear_publishedinteractionclasses();
+  static const int kPublishedInteractionClassesFieldNumber = 2;
+  inline ::google::protobuf::uint32 publishedinteractionclasses(int index) const;
+  inline void set_publishedinteractionclasses(int index, ::google::protobuf::uint32 value);
+  inline void add_publishedinteractionclasses(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      publishedinteractionclasses() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_publishedinteractionclasses();
+
+  // repeated string reservedObjectInstanceNames = 3;
+  inline int reservedobjectinstancenames_size() const;
+  inline void clear_reservedobjectinstancenames();
+  static const int kReservedObjectInstanceNamesFieldNumber = 3;
+  inline const ::std::string& reservedobjectinstancenames(int index) const;
+  inline ::std::string* mutable_reservedobjectinstancenames(int index);
+  inline void set_reservedobjectinstancenames(int index, const ::std::string& value);
+  inline void set_reservedobjectinstancenames(int index, const char* value);
+  inline void set_reservedobjectinstancenames(int index, const char* value, size_t size);
+  inline ::std::string* add_reservedobjectinstancenames();
+  inline void add_reservedobjectinstancenames(const ::std::string& value);
+  inline void add_reservedobjectinstancenames(const char* value);
+  inline void add_reservedobjectinstancenames(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& reservedobjectinstancenames() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_reservedobjectinstancenames();
+
+  // repeated string objectInstanceNamesBeingReserved = 4;
+  inline int objectinstancenamesbeingreserved_size() const;
+  inline void clear_objectinstancenamesbeingreserved();
+  static const int kObjectInstanceNamesBeingReservedFieldNumber = 4;
+  inline const ::std::string& objectinstancenamesbeingreserved(int index) const;
+  inline ::std::string* mutable_objectinstancenamesbeingreserved(int index);
+  inline void set_objectinstancenamesbeingreserved(int index, const ::std::string& value);
+  inline void set_objectinstancenamesbeingreserved(int index, const char* value);
+  inline void set_objectinstancenamesbeingreserved(int index, const char* value, size_t size);
+  inline ::std::string* add_objectinstancenamesbeingreserved();
+  inline void add_objectinstancenamesbeingreserved(const ::std::string& value);
+  inline void add_objectinstancenamesbeingreserved(const char* value);
+  inline void add_objectinstancenamesbeingreserved(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& objectinstancenamesbeingreserved() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_objectinstancenamesbeingreserved();
+
+  // required uint32 nextObjectInstanceHandle = 5;
+  inline bool has_nextobjectinstancehandle() const;
+  inline void clear_nextobjectinstancehandle();
+  static const int kNextObjectInstanceHandleFieldNumber = 5;
+  inline ::google::protobuf::uint32 nextobjectinstancehandle() const;
+  inline void set_nextobjectinstancehandle(::google::protobuf::uint32 value);
+
+  // required uint32 objectInstanceStateCount = 6;
+  inline bool has_objectinstancestatecount() const;
+  inline void clear_objectinstancestatecount();
+  static const int kObjectInstanceStateCountFieldNumber = 6;
+  inline ::google::protobuf::uint32 objectinstancestatecount() const;
+  inline void set_objectinstancestatecount(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederateState.FederateObjectManagerState)
+ private:
+  inline void set_has_nextobjectinstancehandle();
+  inline void clear_has_nextobjectinstancehandle();
+  inline void set_has_objectinstancestatecount();
+  inline void clear_has_objectinstancestatecount();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::PublishedObjectClass > publishedobjectclasses_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > publishedinteractionclasses_;
+  ::google::protobuf::RepeatedPtrField< ::std::string> reservedobjectinstancenames_;
+  ::google::protobuf::RepeatedPtrField< ::std::string> objectinstancenamesbeingreserved_;
+  ::google::protobuf::uint32 nextobjectinstancehandle_;
+  ::google::protobuf::uint32 objectinstancestatecount_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(6 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateState_FederateObjectManagerState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject : public ::google::protobuf::Message {
+ public:
+  FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject();
+  virtual ~FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject();
+
+  FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject(const FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject& from);
+
+  inline FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject& operator=(const FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject& default_instance();
+
+  void Swap(FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject& from);
+  void MergeFrom(const FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederateState.FederateRegionManagerState.FederateRegionState.AssociatedObject)
+ private:
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass : public ::google::protobuf::Message {
+ public:
+  FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass();
+  virtual ~FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass();
+
+  FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass(const FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass& from);
+
+  inline FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass& operator=(const FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass& default_instance();
+
+  void Swap(FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass& from);
+  void MergeFrom(const FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederateState.FederateRegionManagerState.FederateRegionState.SubscribedObjectClass)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::google::protobuf::uint32 objectclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateState_FederateRegionManagerState_FederateRegionState : public ::google::protobuf::Message {
+ public:
+  FederateState_FederateRegionManagerState_FederateRegionState();
+  virtual ~FederateState_FederateRegionManagerState_FederateRegionState();
+
+  FederateState_FederateRegionManagerState_FederateRegionState(const FederateState_FederateRegionManagerState_FederateRegionState& from);
+
+  inline FederateState_FederateRegionManagerState_FederateRegionState& operator=(const FederateState_FederateRegionManagerState_FederateRegionState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateState_FederateRegionManagerState_FederateRegionState& default_instance();
+
+  void Swap(FederateState_FederateRegionManagerState_FederateRegionState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateState_FederateRegionManagerState_FederateRegionState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateState_FederateRegionManagerState_FederateRegionState& from);
+  void MergeFrom(const FederateState_FederateRegionManagerState_FederateRegionState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject AssociatedObject;
+  typedef FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass SubscribedObjectClass;
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  inline bool has_regionhandle() const;
+  inline void clear_regionhandle();
+  static const int kRegionHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::RegionHandle& regionhandle() const;
+  inline ::ohla::rti::proto::RegionHandle* mutable_regionhandle();
+  inline ::ohla::rti::proto::RegionHandle* release_regionhandle();
+  inline void set_allocated_regionhandle(::ohla::rti::proto::RegionHandle* regionhandle);
+
+  // repeated .ohla.rti.proto.DimensionRangeBound rangeBounds = 2;
+  inline int rangebounds_size() const;
+  inline void clear_rangebounds();
+  static const int kRangeBoundsFieldNumber = 2;
+  inline const ::ohla::rti::proto::DimensionRangeBound& rangebounds(int index) const;
+  inline ::ohla::rti::proto::DimensionRangeBound* mutable_rangebounds(int index);
+  inline ::ohla::rti::proto::DimensionRangeBound* add_rangebounds();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >&
+      rangebounds() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >*
+      mutable_rangebounds();
+
+  // repeated .ohla.rti.proto.DimensionRangeBound uncommittedRangeBounds = 3;
+  inline int uncommittedrangebounds_size() const;
+  inline void clear_uncommittedrangebounds();
+  static const int kUncommittedRangeBoundsFieldNumber = 3;
+  inline const ::ohla::rti::proto::DimensionRangeBound& uncommittedrangebounds(int index) const;
+  inline ::ohla::rti::proto::DimensionRangeBound* mutable_uncommittedrangebounds(int index);
+  inline ::ohla::rti::proto::DimensionRangeBound* add_uncommittedrangebounds();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >&
+      uncommittedrangebounds() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >*
+      mutable_uncommittedrangebounds();
+
+  // repeated .ohla.rti.proto.FederateState.FederateRegionManagerState.FederateRegionState.SubscribedObjectClass subscribedObjectClasses = 4;
+  inline int subscribedobjectclasses_size() const;
+  inline void clear_subscribedobjectclasses();
+  static const int kSubscribedObjectClassesFieldNumber = 4;
+  inline const ::ohla::rti::proto::FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass& subscribedobjectclasses(int index) const;
+  inline ::ohla::rti::proto::FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass* mutable_subscribedobjectclasses(int index);
+  inline ::ohla::rti::proto::FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass* add_subscribedobjectclasses();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass >&
+      subscribedobjectclasses() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass >*
+      mutable_subscribedobjectclasses();
+
+  // repeated uint32 subscribedInteractionClasses = 5;
+  inline int subscribedinteractionclasses_size() const;
+  inline void clear_subscribedinteractionclasses();
+  static const int kSubscribedInteractionClassesFieldNumber = 5;
+  inline ::google::protobuf::uint32 subscribedinteractionclasses(int index) const;
+  inline void set_subscribedinteractionclasses(int index, ::google::protobuf::uint32 value);
+  inline void add_subscribedinteractionclasses(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      subscribedinteractionclasses() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_subscribedinteractionclasses();
+
+  // required uint32 associatedObjectCount = 6;
+  inline bool has_associatedobjectcount() const;
+  inline void clear_associatedobjectcount();
+  static const int kAssociatedObjectCountFieldNumber = 6;
+  inline ::google::protobuf::uint32 associatedobjectcount() const;
+  inline void set_associatedobjectcount(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederateState.FederateRegionManagerState.FederateRegionState)
+ private:
+  inline void set_has_regionhandle();
+  inline void clear_has_regionhandle();
+  inline void set_has_associatedobjectcount();
+  inline void clear_has_associatedobjectcount();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::RegionHandle* regionhandle_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound > rangebounds_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound > uncommittedrangebounds_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass > subscribedobjectclasses_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > subscribedinteractionclasses_;
+  ::google::protobuf::uint32 associatedobjectcount_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(6 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateState_FederateRegionManagerState_FederateRegionState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateState_FederateRegionManagerState : public ::google::protobuf::Message {
+ public:
+  FederateState_FederateRegionManagerState();
+  virtual ~FederateState_FederateRegionManagerState();
+
+  FederateState_FederateRegionManagerState(const FederateState_FederateRegionManagerState& from);
+
+  inline FederateState_FederateRegionManagerState& operator=(const FederateState_FederateRegionManagerState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateState_FederateRegionManagerState& default_instance();
+
+  void Swap(FederateState_FederateRegionManagerState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateState_FederateRegionManagerState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateState_FederateRegionManagerState& from);
+  void MergeFrom(const FederateState_FederateRegionManagerState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FederateState_FederateRegionManagerState_FederateRegionState FederateRegionState;
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 nextRegionHandle = 1;
+  inline bool has_nextregionhandle() const;
+  inline void clear_nextregionhandle();
+  static const int kNextRegionHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 nextregionhandle() const;
+  inline void set_nextregionhandle(::google::protobuf::uint32 value);
+
+  // required uint32 regionStateCount = 2;
+  inline bool has_regionstatecount() const;
+  inline void clear_regionstatecount();
+  static const int kRegionStateCountFieldNumber = 2;
+  inline ::google::protobuf::uint32 regionstatecount() const;
+  inline void set_regionstatecount(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederateState.FederateRegionManagerState)
+ private:
+  inline void set_has_nextregionhandle();
+  inline void clear_has_nextregionhandle();
+  inline void set_has_regionstatecount();
+  inline void clear_has_regionstatecount();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 nextregionhandle_;
+  ::google::protobuf::uint32 regionstatecount_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateState_FederateRegionManagerState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateState_FederateMessageRetractionManagerState_MessageRetraction : public ::google::protobuf::Message {
+ public:
+  FederateState_FederateMessageRetractionManagerState_MessageRetraction();
+  virtual ~FederateState_FederateMessageRetractionManagerState_MessageRetraction();
+
+  FederateState_FederateMessageRetractionManagerState_MessageRetraction(const FederateState_FederateMessageRetractionManagerState_MessageRetraction& from);
+
+  inline FederateState_FederateMessageRetractionManagerState_MessageRetraction& operator=(const FederateState_FederateMessageRetractionManagerState_MessageRetraction& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateState_FederateMessageRetractionManagerState_MessageRetraction& default_instance();
+
+  void Swap(FederateState_FederateMessageRetractionManagerState_MessageRetraction* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateState_FederateMessageRetractionManagerState_MessageRetraction* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateState_FederateMessageRetractionManagerState_MessageRetraction& from);
+  void MergeFrom(const FederateState_FederateMessageRetractionManagerState_MessageRetraction& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 1;
+  inline bool has_messageretractionhandle() const;
+  inline void clear_messageretractionhandle();
+  static const int kMessageRetractionHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::MessageRetractionHandle& messageretractionhandle() const;
+  inline ::ohla::rti::proto::MessageRetractionHandle* mutable_messageretractionhandle();
+  inline ::ohla::rti::proto::MessageRetractionHandle* release_messageretractionhandle();
+  inline void set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle);
+
+  // required bytes expiration = 2;
+  inline bool has_expiration() const;
+  inline void clear_expiration();
+  static const int kExpirationFieldNumber = 2;
+  inline const ::std::string& expiration() const;
+  inline void set_expiration(const ::std::string& value);
+  inline void set_expiration(const char* value);
+  inline void set_expiration(const void* value, size_t size);
+  inline ::std::string* mutable_expiration();
+  inline ::std::string* release_expiration();
+  inline void set_allocated_expiration(::std::string* expiration);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederateState.FederateMessageRetractionManagerState.MessageRetraction)
+ private:
+  inline void set_has_messageretractionhandle();
+  inline void clear_has_messageretractionhandle();
+  inline void set_has_expiration();
+  inline void clear_has_expiration();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle_;
+  ::std::string* expiration_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateState_FederateMessageRetractionManagerState_MessageRetraction* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateState_FederateMessageRetractionManagerState : public ::google::protobuf::Message {
+ public:
+  FederateState_FederateMessageRetractionManagerState();
+  virtual ~FederateState_FederateMessageRetractionManagerState();
+
+  FederateState_FederateMessageRetractionManagerState(const FederateState_FederateMessageRetractionManagerState& from);
+
+  inline FederateState_FederateMessageRetractionManagerState& operator=(const FederateState_FederateMessageRetractionManagerState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateState_FederateMessageRetractionManagerState& default_instance();
+
+  void Swap(FederateState_FederateMessageRetractionManagerState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateState_FederateMessageRetractionManagerState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateState_FederateMessageRetractionManagerState& from);
+  void MergeFrom(const FederateState_FederateMessageRetractionManagerState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FederateState_FederateMessageRetractionManagerState_MessageRetraction MessageRetraction;
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 nextMessageRetractionHandle = 1;
+  inline bool has_nextmessageretractionhandle() const;
+  inline void clear_nextmessageretractionhandle();
+  static const int kNextMessageRetractionHandleFieldNumber = 1;
+  inline ::google::protobuf::uint64 nextmessageretractionhandle() const;
+  inline void set_nextmessageretractionhandle(::google::protobuf::uint64 value);
+
+  // required uint32 messageRetractionCount = 2;
+  inline bool has_messageretractioncount() const;
+  inline void clear_messageretractioncount();
+  static const int kMessageRetractionCountFieldNumber = 2;
+  inline ::google::protobuf::uint32 messageretractioncount() const;
+  inline void set_messageretractioncount(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederateState.FederateMessageRetractionManagerState)
+ private:
+  inline void set_has_nextmessageretractionhandle();
+  inline void clear_has_nextmessageretractionhandle();
+  inline void set_has_messageretractioncount();
+  inline void clear_has_messageretractioncount();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 nextmessageretractionhandle_;
+  ::google::protobuf::uint32 messageretractioncount_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateState_FederateMessageRetractionManagerState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateState_FederateTimeManagerState : public ::google::protobuf::Message {
+ public:
+  FederateState_FederateTimeManagerState();
+  virtual ~FederateState_FederateTimeManagerState();
+
+  FederateState_FederateTimeManagerState(const FederateState_FederateTimeManagerState& from);
+
+  inline FederateState_FederateTimeManagerState& operator=(const FederateState_FederateTimeManagerState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateState_FederateTimeManagerState& default_instance();
+
+  void Swap(FederateState_FederateTimeManagerState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateState_FederateTimeManagerState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateState_FederateTimeManagerState& from);
+  void MergeFrom(const FederateState_FederateTimeManagerState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FederateState_FederateTimeManagerState_TemporalState TemporalState;
+  static const TemporalState TIME_ADVANCING = FederateState_FederateTimeManagerState_TemporalState_TIME_ADVANCING;
+  static const TemporalState TIME_GRANTED = FederateState_FederateTimeManagerState_TemporalState_TIME_GRANTED;
+  static inline bool TemporalState_IsValid(int value) {
+    return FederateState_FederateTimeManagerState_TemporalState_IsValid(value);
+  }
+  static const TemporalState TemporalState_MIN =
+    FederateState_FederateTimeManagerState_TemporalState_TemporalState_MIN;
+  static const TemporalState TemporalState_MAX =
+    FederateState_FederateTimeManagerState_TemporalState_TemporalState_MAX;
+  static const int TemporalState_ARRAYSIZE =
+    FederateState_FederateTimeManagerState_TemporalState_TemporalState_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  TemporalState_descriptor() {
+    return FederateState_FederateTimeManagerState_TemporalState_descriptor();
+  }
+  static inline const ::std::string& TemporalState_Name(TemporalState value) {
+    return FederateState_FederateTimeManagerState_TemporalState_Name(value);
+  }
+  static inline bool TemporalState_Parse(const ::std::string& name,
+      TemporalState* value) {
+    return FederateState_FederateTimeManagerState_TemporalState_Parse(name, value);
+  }
+
+  typedef FederateState_FederateTimeManagerState_TimeRegulatingState TimeRegulatingState;
+  static const TimeRegulatingState TIME_REGULATING = FederateState_FederateTimeManagerState_TimeRegulatingState_TIME_REGULATING;
+  static const TimeRegulatingState BECOMING_TIME_REGULATING = FederateState_FederateTimeManagerState_TimeRegulatingState_BECOMING_TIME_REGULATING;
+  static const TimeRegulatingState NOT_TIME_REGULATING = FederateState_FederateTimeManagerState_TimeRegulatingState_NOT_TIME_REGULATING;
+  static inline bool TimeRegulatingState_IsValid(int value) {
+    return FederateState_FederateTimeManagerState_TimeRegulatingState_IsValid(value);
+  }
+  static const TimeRegulatingState TimeRegulatingState_MIN =
+    FederateState_FederateTimeManagerState_TimeRegulatingState_TimeRegulatingState_MIN;
+  static const TimeRegulatingState TimeRegulatingState_MAX =
+    FederateState_FederateTimeManagerState_TimeRegulatingState_TimeRegulatingState_MAX;
+  static const int TimeRegulatingState_ARRAYSIZE =
+    FederateState_FederateTimeManagerState_TimeRegulatingState_TimeRegulatingState_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  TimeRegulatingState_descriptor() {
+    return FederateState_FederateTimeManagerState_TimeRegulatingState_descriptor();
+  }
+  static inline const ::std::string& TimeRegulatingState_Name(TimeRegulatingState value) {
+    return FederateState_FederateTimeManagerState_TimeRegulatingState_Name(value);
+  }
+  static inline bool TimeRegulatingState_Parse(const ::std::string& name,
+      TimeRegulatingState* value) {
+    return FederateState_FederateTimeManagerState_TimeRegulatingState_Parse(name, value);
+  }
+
+  typedef FederateState_FederateTimeManagerState_TimeConstrainedState TimeConstrainedState;
+  static const TimeConstrainedState TIME_CONSTRAINED = FederateState_FederateTimeManagerState_TimeConstrainedState_TIME_CONSTRAINED;
+  static const TimeConstrainedState BECOMING_TIME_CONSTRAINED = FederateState_FederateTimeManagerState_TimeConstrainedState_BECOMING_TIME_CONSTRAINED;
+  static const TimeConstrainedState NOT_TIME_CONSTRAINED = FederateState_FederateTimeManagerState_TimeConstrainedState_NOT_TIME_CONSTRAINED;
+  static inline bool TimeConstrainedState_IsValid(int value) {
+    return FederateState_FederateTimeManagerState_TimeConstrainedState_IsValid(value);
+  }
+  static const TimeConstrainedState TimeConstrainedState_MIN =
+    FederateState_FederateTimeManagerState_TimeConstrainedState_TimeConstrainedState_MIN;
+  static const TimeConstrainedState TimeConstrainedState_MAX =
+    FederateState_FederateTimeManagerState_TimeConstrainedState_TimeConstrainedState_MAX;
+  static const int TimeConstrainedState_ARRAYSIZE =
+    FederateState_FederateTimeManagerState_TimeConstrainedState_TimeConstrainedState_ARRAYSIZE;
+  static inline const ::google::protobuf::EnumDescriptor*
+  TimeConstrainedState_descriptor() {
+    return FederateState_FederateTimeManagerState_TimeConstrainedState_descriptor();
+  }
+  static inline const ::std::string& TimeConstrainedState_Name(TimeConstrainedState value) {
+    return FederateState_FederateTimeManagerState_TimeConstrainedState_Name(value);
+  }
+  static inline bool TimeConstrainedState_Parse(const ::std::string& name,
+      TimeConstrainedState* value) {
+    return FederateState_FederateTimeManagerState_TimeConstrainedState_Parse(name, value);
+  }
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TemporalState temporalState = 1;
+  inline bool has_temporalstate() const;
+  inline void clear_temporalstate();
+  static const int kTemporalStateFieldNumber = 1;
+  inline ::ohla::rti::proto::FederateState_FederateTimeManagerState_TemporalState temporalstate() const;
+  inline void set_temporalstate(::ohla::rti::proto::FederateState_FederateTimeManagerState_TemporalState value);
+
+  // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TimeRegulatingState timeRegulatingState = 2;
+  inline bool has_timeregulatingstate() const;
+  inline void clear_timeregulatingstate();
+  static const int kTimeRegulatingStateFieldNumber = 2;
+  inline ::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeRegulatingState timeregulatingstate() const;
+  inline void set_timeregulatingstate(::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeRegulatingState value);
+
+  // required .ohla.rti.proto.FederateState.FederateTimeManagerState.TimeConstrainedState timeConstrainedState = 3;
+  inline bool has_timeconstrainedstate() const;
+  inline void clear_timeconstrainedstate();
+  static const int kTimeConstrainedStateFieldNumber = 3;
+  inline ::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeConstrainedState timeconstrainedstate() const;
+  inline void set_timeconstrainedstate(::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeConstrainedState value);
+
+  // required bytes federateTime = 4;
+  inline bool has_federatetime() const;
+  inline void clear_federatetime();
+  static const int kFederateTimeFieldNumber = 4;
+  inline const ::std::string& federatetime() const;
+  inline void set_federatetime(const ::std::string& value);
+  inline void set_federatetime(const char* value);
+  inline void set_federatetime(const void* value, size_t size);
+  inline ::std::string* mutable_federatetime();
+  inline ::std::string* release_federatetime();
+  inline void set_allocated_federatetime(::std::string* federatetime);
+
+  // optional bytes lookahead = 5;
+  inline bool has_lookahead() const;
+  inline void clear_lookahead();
+  static const int kLookaheadFieldNumber = 5;
+  inline const ::std::string& lookahead() const;
+  inline void set_lookahead(const ::std::string& value);
+  inline void set_lookahead(const char* value);
+  inline void set_lookahead(const void* value, size_t size);
+  inline ::std::string* mutable_lookahead();
+  inline ::std::string* release_lookahead();
+  inline void set_allocated_lookahead(::std::string* lookahead);
+
+  // optional bytes lots = 6;
+  inline bool has_lots() const;
+  inline void clear_lots();
+  static const int kLotsFieldNumber = 6;
+  inline const ::std::string& lots() const;
+  inline void set_lots(const ::std::string& value);
+  inline void set_lots(const char* value);
+  inline void set_lots(const void* value, size_t size);
+  inline ::std::string* mutable_lots();
+  inline ::std::string* release_lots();
+  inline void set_allocated_lots(::std::string* lots);
+
+  // required .ohla.rti.proto.AdvanceRequestType advanceRequestType = 7;
+  inline bool has_advancerequesttype() const;
+  inline void clear_advancerequesttype();
+  static const int kAdvanceRequestTypeFieldNumber = 7;
+  inline ::ohla::rti::proto::AdvanceRequestType advancerequesttype() const;
+  inline void set_advancerequesttype(::ohla::rti::proto::AdvanceRequestType value);
+
+  // optional bytes advanceRequestTime = 8;
+  inline bool has_advancerequesttime() const;
+  inline void clear_advancerequesttime();
+  static const int kAdvanceRequestTimeFieldNumber = 8;
+  inline const ::std::string& advancerequesttime() const;
+  inline void set_advancerequesttime(const ::std::string& value);
+  inline void set_advancerequesttime(const char* value);
+  inline void set_advancerequesttime(const void* value, size_t size);
+  inline ::std::string* mutable_advancerequesttime();
+  inline ::std::string* release_advancerequesttime();
+  inline void set_allocated_advancerequesttime(::std::string* advancerequesttime);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederateState.FederateTimeManagerState)
+ private:
+  inline void set_has_temporalstate();
+  inline void clear_has_temporalstate();
+  inline void set_has_timeregulatingstate();
+  inline void clear_has_timeregulatingstate();
+  inline void set_has_timeconstrainedstate();
+  inline void clear_has_timeconstrainedstate();
+  inline void set_has_federatetime();
+  inline void clear_has_federatetime();
+  inline void set_has_lookahead();
+  inline void clear_has_lookahead();
+  inline void set_has_lots();
+  inline void clear_has_lots();
+  inline void set_has_advancerequesttype();
+  inline void clear_has_advancerequesttype();
+  inline void set_has_advancerequesttime();
+  inline void clear_has_advancerequesttime();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  int temporalstate_;
+  int timeregulatingstate_;
+  ::std::string* federatetime_;
+  ::std::string* lookahead_;
+  int timeconstrainedstate_;
+  int advancerequesttype_;
+  ::std::string* lots_;
+  ::std::string* advancerequesttime_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(8 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateState_FederateTimeManagerState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateState : public ::google::protobuf::Message {
+ public:
+  FederateState();
+  virtual ~FederateState();
+
+  FederateState(const FederateState& from);
+
+  inline FederateState& operator=(const FederateState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateState& default_instance();
+
+  void Swap(FederateState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateState& from);
+  void MergeFrom(const FederateState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FederateState_FederateSynchonizationPointState FederateSynchonizationPointState;
+  typedef FederateState_FederateObjectManagerState FederateObjectManagerState;
+  typedef FederateState_FederateRegionManagerState FederateRegionManagerState;
+  typedef FederateState_FederateMessageRetractionManagerState FederateMessageRetractionManagerState;
+  typedef FederateState_FederateTimeManagerState FederateTimeManagerState;
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 synchonizationPointStateCount = 1;
+  inline bool has_synchonizationpointstatecount() const;
+  inline void clear_synchonizationpointstatecount();
+  static const int kSynchonizationPointStateCountFieldNumber = 1;
+  inline ::google::protobuf::uint32 synchonizationpointstatecount() const;
+  inline void set_synchonizationpointstatecount(::google::protobuf::uint32 value);
+
+  // required bool hasHLA13RTIAmbassadorState = 2;
+  inline bool has_hashla13rtiambassadorstate() const;
+  inline void clear_hashla13rtiambassadorstate();
+  static const int kHasHLA13RTIAmbassadorStateFieldNumber = 2;
+  inline bool hashla13rtiambassadorstate() const;
+  inline void set_hashla13rtiambassadorstate(bool value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederateState)
+ private:
+  inline void set_has_synchonizationpointstatecount();
+  inline void clear_has_synchonizationpointstatecount();
+  inline void set_has_hashla13rtiambassadorstate();
+  inline void clear_has_hashla13rtiambassadorstate();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 synchonizationpointstatecount_;
+  bool hashla13rtiambassadorstate_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class TimeStampOrderedMessageQueueState_TimeStampOrderedMessage : public ::google::protobuf::Message {
+ public:
+  TimeStampOrderedMessageQueueState_TimeStampOrderedMessage();
+  virtual ~TimeStampOrderedMessageQueueState_TimeStampOrderedMessage();
+
+  TimeStampOrderedMessageQueueState_TimeStampOrderedMessage(const TimeStampOrderedMessageQueueState_TimeStampOrderedMessage& from);
+
+  inline TimeStampOrderedMessageQueueState_TimeStampOrderedMessage& operator=(const TimeStampOrderedMessageQueueState_TimeStampOrderedMessage& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const TimeStampOrderedMessageQueueState_TimeStampOrderedMessage& default_instance();
+
+  void Swap(TimeStampOrderedMessageQueueState_TimeStampOrderedMessage* other);
+
+  // implements Message ----------------------------------------------
+
+  TimeStampOrderedMessageQueueState_TimeStampOrderedMessage* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const TimeStampOrderedMessageQueueState_TimeStampOrderedMessage& from);
+  void MergeFrom(const TimeStampOrderedMessageQueueState_TimeStampOrderedMessage& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 producingFederateHandle = 1;
+  inline bool has_producingfederatehandle() const;
+  inline void clear_producingfederatehandle();
+  static const int kProducingFederateHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 producingfederatehandle() const;
+  inline void set_producingfederatehandle(::google::protobuf::uint32 value);
+
+  // optional .ohla.rti.messages.proto.SendInteraction sendInteraction = 2;
+  inline bool has_sendinteraction() const;
+  inline void clear_sendinteraction();
+  static const int kSendInteractionFieldNumber = 2;
+  inline const ::ohla::rti::messages::proto::SendInteraction& sendinteraction() const;
+  inline ::ohla::rti::messages::proto::SendInteraction* mutable_sendinteraction();
+  inline ::ohla::rti::messages::proto::SendInteraction* release_sendinteraction();
+  inline void set_allocated_sendinteraction(::ohla::rti::messages::proto::SendInteraction* sendinteraction);
+
+  // optional .ohla.rti.messages.proto.UpdateAttributeValues updateAttributeValues = 3;
+  inline bool has_updateattributevalues() const;
+  inline void clear_updateattributevalues();
+  static const int kUpdateAttributeValuesFieldNumber = 3;
+  inline const ::ohla::rti::messages::proto::UpdateAttributeValues& updateattributevalues() const;
+  inline ::ohla::rti::messages::proto::UpdateAttributeValues* mutable_updateattributevalues();
+  inline ::ohla::rti::messages::proto::UpdateAttributeValues* release_updateattributevalues();
+  inline void set_allocated_updateattributevalues(::ohla::rti::messages::proto::UpdateAttributeValues* updateattributevalues);
+
+  // optional .ohla.rti.messages.proto.DeleteObjectInstance deleteObjectInstance = 4;
+  inline bool has_deleteobjectinstance() const;
+  inline void clear_deleteobjectinstance();
+  static const int kDeleteObjectInstanceFieldNumber = 4;
+  inline const ::ohla::rti::messages::proto::DeleteObjectInstance& deleteobjectinstance() const;
+  inline ::ohla::rti::messages::proto::DeleteObjectInstance* mutable_deleteobjectinstance();
+  inline ::ohla::rti::messages::proto::DeleteObjectInstance* release_deleteobjectinstance();
+  inline void set_allocated_deleteobjectinstance(::ohla::rti::messages::proto::DeleteObjectInstance* deleteobjectinstance);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.TimeStampOrderedMessageQueueState.TimeStampOrderedMessage)
+ private:
+  inline void set_has_producingfederatehandle();
+  inline void clear_has_producingfederatehandle();
+  inline void set_has_sendinteraction();
+  inline void clear_has_sendinteraction();
+  inline void set_has_updateattributevalues();
+  inline void clear_has_updateattributevalues();
+  inline void set_has_deleteobjectinstance();
+  inline void clear_has_deleteobjectinstance();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::messages::proto::SendInteraction* sendinteraction_;
+  ::ohla::rti::messages::proto::UpdateAttributeValues* updateattributevalues_;
+  ::ohla::rti::messages::proto::DeleteObjectInstance* deleteobjectinstance_;
+  ::google::protobuf::uint32 producingfederatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static TimeStampOrderedMessageQueueState_TimeStampOrderedMessage* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class TimeStampOrderedMessageQueueState : public ::google::protobuf::Message {
+ public:
+  TimeStampOrderedMessageQueueState();
+  virtual ~TimeStampOrderedMessageQueueState();
+
+  TimeStampOrderedMessageQueueState(const TimeStampOrderedMessageQueueState& from);
+
+  inline TimeStampOrderedMessageQueueState& operator=(const TimeStampOrderedMessageQueueState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const TimeStampOrderedMessageQueueState& default_instance();
+
+  void Swap(TimeStampOrderedMessageQueueState* other);
+
+  // implements Message ----------------------------------------------
+
+  TimeStampOrderedMessageQueueState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const TimeStampOrderedMessageQueueState& from);
+  void MergeFrom(const TimeStampOrderedMessageQueueState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef TimeStampOrderedMessageQueueState_TimeStampOrderedMessage TimeStampOrderedMessage;
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 queuedTimeStampOrderedMessageCount = 1;
+  inline bool has_queuedtimestamporderedmessagecount() const;
+  inline void clear_queuedtimestamporderedmessagecount();
+  static const int kQueuedTimeStampOrderedMessageCountFieldNumber = 1;
+  inline ::google::protobuf::uint32 queuedtimestamporderedmessagecount() const;
+  inline void set_queuedtimestamporderedmessagecount(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.TimeStampOrderedMessageQueueState)
+ private:
+  inline void set_has_queuedtimestamporderedmessagecount();
+  inline void clear_has_queuedtimestamporderedmessagecount();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 queuedtimestamporderedmessagecount_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static TimeStampOrderedMessageQueueState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateProxyState : public ::google::protobuf::Message {
+ public:
+  FederateProxyState();
+  virtual ~FederateProxyState();
+
+  FederateProxyState(const FederateProxyState& from);
+
+  inline FederateProxyState& operator=(const FederateProxyState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateProxyState& default_instance();
+
+  void Swap(FederateProxyState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateProxyState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateProxyState& from);
+  void MergeFrom(const FederateProxyState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated .ohla.rti.proto.PublishedObjectClass publishedObjectClasses = 1;
+  inline int publishedobjectclasses_size() const;
+  inline void clear_publishedobjectclasses();
+  static const int kPublishedObjectClassesFieldNumber = 1;
+  inline const ::ohla::rti::proto::PublishedObjectClass& publishedobjectclasses(int index) const;
+  inline ::ohla::rti::proto::PublishedObjectClass* mutable_publishedobjectclasses(int index);
+  inline ::ohla::rti::proto::PublishedObjectClass* add_publishedobjectclasses();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::PublishedObjectClass >&
+      publishedobjectclasses() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::PublishedObjectClass >*
+      mutable_publishedobjectclasses();
+
+  // repeated uint32 publishedInteractionClasses = 2;
+  inline int publishedinteractionclasses_size() const;
+  inline void clear_publishedinteractionclasses();
+  static const int kPublishedInteractionClassesFieldNumber = 2;
+  inline ::google::protobuf::uint32 publishedinteractionclasses(int index) const;
+  inline void set_publishedinteractionclasses(int index, ::google::protobuf::uint32 value);
+  inline void add_publishedinteractionclasses(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      publishedinteractionclasses() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_publishedinteractionclasses();
+
+  // required bool timeRegulationEnabled = 3;
+  inline bool has_timeregulationenabled() const;
+  inline void clear_timeregulationenabled();
+  static const int kTimeRegulationEnabledFieldNumber = 3;
+  inline bool timeregulationenabled() const;
+  inline void set_timeregulationenabled(bool value);
+
+  // optional bytes lookahead = 4;
+  inline bool has_lookahead() const;
+  inline void clear_lookahead();
+  static const int kLookaheadFieldNumber = 4;
+  inline const ::std::string& lookahead() const;
+  inline void set_lookahead(const ::std::string& value);
+  inline void set_lookahead(const char* value);
+  inline void set_lookahead(const void* value, size_t size);
+  inline ::std::string* mutable_lookahead();
+  inline ::std::string* release_lookahead();
+  inline void set_allocated_lookahead(::std::string* lookahead);
+
+  // required bool timeConstrainedEnabled = 5;
+  inline bool has_timeconstrainedenabled() const;
+  inline void clear_timeconstrainedenabled();
+  static const int kTimeConstrainedEnabledFieldNumber = 5;
+  inline bool timeconstrainedenabled() const;
+  inline void set_timeconstrainedenabled(bool value);
+
+  // required bool timeConstrainedPending = 6;
+  inline bool has_timeconstrainedpending() const;
+  inline void clear_timeconstrainedpending();
+  static const int kTimeConstrainedPendingFieldNumber = 6;
+  inline bool timeconstrainedpending() const;
+  inline void set_timeconstrainedpending(bool value);
+
+  // required .ohla.rti.proto.AdvanceRequestType advanceRequestType = 7;
+  inline bool has_advancerequesttype() const;
+  inline void clear_advancerequesttype();
+  static const int kAdvanceRequestTypeFieldNumber = 7;
+  inline ::ohla::rti::proto::AdvanceRequestType advancerequesttype() const;
+  inline void set_advancerequesttype(::ohla::rti::proto::AdvanceRequestType value);
+
+  // optional bytes advanceRequestTime = 8;
+  inline bool has_advancerequesttime() const;
+  inline void clear_advancerequesttime();
+  static const int kAdvanceRequestTimeFieldNumber = 8;
+  inline const ::std::string& advancerequesttime() const;
+  inline void set_advancerequesttime(const ::std::string& value);
+  inline void set_advancerequesttime(const char* value);
+  inline void set_advancerequesttime(const void* value, size_t size);
+  inline ::std::string* mutable_advancerequesttime();
+  inline ::std::string* release_advancerequesttime();
+  inline void set_allocated_advancerequesttime(::std::string* advancerequesttime);
+
+  // required bytes federateTime = 9;
+  inline bool has_federatetime() const;
+  inline void clear_federatetime();
+  static const int kFederateTimeFieldNumber = 9;
+  inline const ::std::string& federatetime() const;
+  inline void set_federatetime(const ::std::string& value);
+  inline void set_federatetime(const char* value);
+  inline void set_federatetime(const void* value, size_t size);
+  inline ::std::string* mutable_federatetime();
+  inline ::std::string* release_federatetime();
+  inline void set_allocated_federatetime(::std::string* federatetime);
+
+  // optional bytes galt = 10;
+  inline bool has_galt() const;
+  inline void clear_galt();
+  static const int kGaltFieldNumber = 10;
+  inline const ::std::string& galt() const;
+  inline void set_galt(const ::std::string& value);
+  inline void set_galt(const char* value);
+  inline void set_galt(const void* value, size_t size);
+  inline ::std::string* mutable_galt();
+  inline ::std::string* release_galt();
+  inline void set_allocated_galt(::std::string* galt);
+
+  // optional bytes lots = 11;
+  inline bool has_lots() const;
+  inline void clear_lots();
+  static const int kLotsFieldNumber = 11;
+  inline const ::std::string& lots() const;
+  inline void set_lots(const ::std::string& value);
+  inline void set_lots(const char* value);
+  inline void set_lots(const void* value, size_t size);
+  inline ::std::string* mutable_lots();
+  inline ::std::string* release_lots();
+  inline void set_allocated_lots(::std::string* lots);
+
+  // required uint32 discoveredObjectInstanceHandleCount = 12;
+  inline bool has_discoveredobjectinstancehandlecount() const;
+  inline void clear_discoveredobjectinstancehandlecount();
+  static const int kDiscoveredObjectInstanceHandleCountFieldNumber = 12;
+  inline ::google::protobuf::uint32 discoveredobjectinstancehandlecount() const;
+  inline void set_discoveredobjectinstancehandlecount(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederateProxyState)
+ private:
+  inline void set_has_timeregulationenabled();
+  inline void clear_has_timeregulationenabled();
+  inline void set_has_lookahead();
+  inline void clear_has_lookahead();
+  inline void set_has_timeconstrainedenabled();
+  inline void clear_has_timeconstrainedenabled();
+  inline void set_has_timeconstrainedpending();
+  inline void clear_has_timeconstrainedpending();
+  inline void set_has_advancerequesttype();
+  inline void clear_has_advancerequesttype();
+  inline void set_has_advancerequesttime();
+  inline void clear_has_advancerequesttime();
+  inline void set_has_federatetime();
+  inline void clear_has_federatetime();
+  inline void set_has_galt();
+  inline void clear_has_galt();
+  inline void set_has_lots();
+  inline void clear_has_lots();
+  inline void set_has_discoveredobjectinstancehandlecount();
+  inline void clear_has_discoveredobjectinstancehandlecount();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::PublishedObjectClass > publishedobjectclasses_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > publishedinteractionclasses_;
+  ::std::string* lookahead_;
+  bool timeregulationenabled_;
+  bool timeconstrainedenabled_;
+  bool timeconstrainedpending_;
+  int advancerequesttype_;
+  ::std::string* advancerequesttime_;
+  ::std::string* federatetime_;
+  ::std::string* galt_;
+  ::std::string* lots_;
+  ::google::protobuf::uint32 discoveredobjectinstancehandlecount_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(12 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateProxyState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationExecutionState_FederationExecutionSynchonizationPointState : public ::google::protobuf::Message {
+ public:
+  FederationExecutionState_FederationExecutionSynchonizationPointState();
+  virtual ~FederationExecutionState_FederationExecutionSynchonizationPointState();
+
+  FederationExecutionState_FederationExecutionSynchonizationPointState(const FederationExecutionState_FederationExecutionSynchonizationPointState& from);
+
+  inline FederationExecutionState_FederationExecutionSynchonizationPointState& operator=(const FederationExecutionState_FederationExecutionSynchonizationPointState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationExecutionState_FederationExecutionSynchonizationPointState& default_instance();
+
+  void Swap(FederationExecutionState_FederationExecutionSynchonizationPointState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationExecutionState_FederationExecutionSynchonizationPointState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationExecutionState_FederationExecutionSynchonizationPointState& from);
+  void MergeFrom(const FederationExecutionState_FederationExecutionSynchonizationPointState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string label = 1;
+  inline bool has_label() const;
+  inline void clear_label();
+  static const int kLabelFieldNumber = 1;
+  inline const ::std::string& label() const;
+  inline void set_label(const ::std::string& value);
+  inline void set_label(const char* value);
+  inline void set_label(const char* value, size_t size);
+  inline ::std::string* mutable_label();
+  inline ::std::string* release_label();
+  inline void set_allocated_label(::std::string* label);
+
+  // optional bytes tag = 2;
+  inline bool has_tag() const;
+  inline void clear_tag();
+  static const int kTagFieldNumber = 2;
+  inline const ::std::string& tag() const;
+  inline void set_tag(const ::std::string& value);
+  inline void set_tag(const char* value);
+  inline void set_tag(const void* value, size_t size);
+  inline ::std::string* mutable_tag();
+  inline ::std::string* release_tag();
+  inline void set_allocated_tag(::std::string* tag);
+
+  // repeated uint32 federateHandles = 3;
+  inline int federatehandles_size() const;
+  inline void clear_federatehandles();
+  static const int kFederateHandlesFieldNumber = 3;
+  inline ::google::protobuf::uint32 federatehandles(int index) const;
+  inline void set_federatehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_federatehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      federatehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_federatehandles();
+
+  // required bool exclusive = 4;
+  inline bool has_exclusive() const;
+  inline void clear_exclusive();
+  static const int kExclusiveFieldNumber = 4;
+  inline bool exclusive() const;
+  inline void set_exclusive(bool value);
+
+  // repeated uint32 awaitingSynchronization = 5;
+  inline int awaitingsynchronization_size() const;
+  inline void clear_awaitingsynchronization();
+  static const int kAwaitingSynchronizationFieldNumber = 5;
+  inline ::google::protobuf::uint32 awaitingsynchronization(int index) const;
+  inline void set_awaitingsynchronization(int index, ::google::protobuf::uint32 value);
+  inline void add_awaitingsynchronization(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      awaitingsynchronization() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_awaitingsynchronization();
+
+  // repeated uint32 failedToSynchronize = 6;
+  inline int failedtosynchronize_size() const;
+  inline void clear_failedtosynchronize();
+  static const int kFailedToSynchronizeFieldNumber = 6;
+  inline ::google::protobuf::uint32 failedtosynchronize(int index) const;
+  inline void set_failedtosynchronize(int index, ::google::protobuf::uint32 value);
+  inline void add_failedtosynchronize(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      failedtosynchronize() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_failedtosynchronize();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederationExecutionState.FederationExecutionSynchonizationPointState)
+ private:
+  inline void set_has_label();
+  inline void clear_has_label();
+  inline void set_has_tag();
+  inline void clear_has_tag();
+  inline void set_has_exclusive();
+  inline void clear_has_exclusive();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* label_;
+  ::std::string* tag_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > federatehandles_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > awaitingsynchronization_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > failedtosynchronize_;
+  bool exclusive_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(6 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationExecutionState_FederationExecutionSynchonizationPointState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName : public ::google::protobuf::Message {
+ public:
+  FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName();
+  virtual ~FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName();
+
+  FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName(const FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName& from);
+
+  inline FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName& operator=(const FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName& default_instance();
+
+  void Swap(FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName& from);
+  void MergeFrom(const FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string objectInstanceName = 1;
+  inline bool has_objectinstancename() const;
+  inline void clear_objectinstancename();
+  static const int kObjectInstanceNameFieldNumber = 1;
+  inline const ::std::string& objectinstancename() const;
+  inline void set_objectinstancename(const ::std::string& value);
+  inline void set_objectinstancename(const char* value);
+  inline void set_objectinstancename(const char* value, size_t size);
+  inline ::std::string* mutable_objectinstancename();
+  inline ::std::string* release_objectinstancename();
+  inline void set_allocated_objectinstancename(::std::string* objectinstancename);
+
+  // required uint32 federateHandle = 2;
+  inline bool has_federatehandle() const;
+  inline void clear_federatehandle();
+  static const int kFederateHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 federatehandle() const;
+  inline void set_federatehandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.ReservedObjectInstanceName)
+ private:
+  inline void set_has_objectinstancename();
+  inline void clear_has_objectinstancename();
+  inline void set_has_federatehandle();
+  inline void clear_has_federatehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* objectinstancename_;
+  ::google::protobuf::uint32 federatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation : public ::google::protobuf::Message {
+ public:
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation();
+  virtual ~FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation();
+
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation& from);
+
+  inline FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation& operator=(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation& default_instance();
+
+  void Swap(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation& from);
+  void MergeFrom(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 federateHandle = 1;
+  inline bool has_federatehandle() const;
+  inline void clear_federatehandle();
+  static const int kFederateHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 federatehandle() const;
+  inline void set_federatehandle(::google::protobuf::uint32 value);
+
+  // repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+  inline int regionhandles_size() const;
+  inline void clear_regionhandles();
+  static const int kRegionHandlesFieldNumber = 2;
+  inline const ::ohla::rti::proto::RegionHandle& regionhandles(int index) const;
+  inline ::ohla::rti::proto::RegionHandle* mutable_regionhandles(int index);
+  inline ::ohla::rti::proto::RegionHandle* add_regionhandles();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >&
+      regionhandles() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >*
+      mutable_regionhandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState.FederationExecutionAttributeInstanceState.PendingRegionAssociation)
+ private:
+  inline void set_has_federatehandle();
+  inline void clear_has_federatehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle > regionhandles_;
+  ::google::protobuf::uint32 federatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState : public ::google::protobuf::Message {
+ public:
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState();
+  virtual ~FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState();
+
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState& from);
+
+  inline FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState& operator=(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState& default_instance();
+
+  void Swap(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState& from);
+  void MergeFrom(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation PendingRegionAssociation;
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 attributeHandle = 1;
+  inline bool has_attributehandle() const;
+  inline void clear_attributehandle();
+  static const int kAttributeHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 attributehandle() const;
+  inline void set_attributehandle(::google::protobuf::uint32 value);
+
+  // required double updateRate = 2;
+  inline bool has_updaterate() const;
+  inline void clear_updaterate();
+  static const int kUpdateRateFieldNumber = 2;
+  inline double updaterate() const;
+  inline void set_updaterate(double value);
+
+  // required uint32 transportationTypeHandle = 3;
+  inline bool has_transportationtypehandle() const;
+  inline void clear_transportationtypehandle();
+  static const int kTransportationTypeHandleFieldNumber = 3;
+  inline ::google::protobuf::uint32 transportationtypehandle() const;
+  inline void set_transportationtypehandle(::google::protobuf::uint32 value);
+
+  // required .ohla.rti.proto.OrderType orderType = 4;
+  inline bool has_ordertype() const;
+  inline void clear_ordertype();
+  static const int kOrderTypeFieldNumber = 4;
+  inline ::ohla::rti::proto::OrderType ordertype() const;
+  inline void set_ordertype(::ohla::rti::proto::OrderType value);
+
+  // optional uint32 owningFederateHandle = 5;
+  inline bool has_owningfederatehandle() const;
+  inline void clear_owningfederatehandle();
+  static const int kOwningFederateHandleFieldNumber = 5;
+  inline ::google::protobuf::uint32 owningfederatehandle() const;
+  inline void set_owningfederatehandle(::google::protobuf::uint32 value);
+
+  // required bool wantsToDivest = 6;
+  inline bool has_wantstodivest() const;
+  inline void clear_wantstodivest();
+  static const int kWantsToDivestFieldNumber = 6;
+  inline bool wantstodivest() const;
+  inline void set_wantstodivest(bool value);
+
+  // optional bytes divestingTag = 7;
+  inline bool has_divestingtag() const;
+  inline void clear_divestingtag();
+  static const int kDivestingTagFieldNumber = 7;
+  inline const ::std::string& divestingtag() const;
+  inline void set_divestingtag(const ::std::string& value);
+  inline void set_divestingtag(const char* value);
+  inline void set_divestingtag(const void* value, size_t size);
+  inline ::std::string* mutable_divestingtag();
+  inline ::std::string* release_divestingtag();
+  inline void set_allocated_divestingtag(::std::string* divestingtag);
+
+  // repeated uint32 requestingOwnershipFederateHandles = 8;
+  inline int requestingownershipfederatehandles_size() const;
+  inline void clear_requestingownershipfederatehandles();
+  static const int kRequestingOwnershipFederateHandlesFieldNumber = 8;
+  inline ::google::protobuf::uint32 requestingownershipfederatehandles(int index) const;
+  inline void set_requestingownershipfederatehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_requestingownershipfederatehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      requestingownershipfederatehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_requestingownershipfederatehandles();
+
+  // repeated .ohla.rti.proto.RegionHandle regionRealizations = 9;
+  inline int regionrealizations_size() const;
+  inline void clear_regionrealizations();
+  static const int kRegionRealizationsFieldNumber = 9;
+  inline const ::ohla::rti::proto::RegionHandle& regionrealizations(int index) const;
+  inline ::ohla::rti::proto::RegionHandle* mutable_regionrealizations(int index);
+  inline ::ohla::rti::proto::RegionHandle* add_regionrealizations();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >&
+      regionrealizations() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >*
+      mutable_regionrealizations();
+
+  // repeated .ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState.FederationExecutionAttributeInstanceState.PendingRegionAssociation pendingRegionAssociations = 10;
+  inline int pendingregionassociations_size() const;
+  inline void clear_pendingregionassociations();
+  static const int kPendingRegionAssociationsFieldNumber = 10;
+  inline const ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation& pendingregionassociations(int index) const;
+  inline ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation* mutable_pendingregionassociations(int index);
+  inline ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation* add_pendingregionassociations();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation >&
+      pendingregionassociations() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation >*
+      mutable_pendingregionassociations();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState.FederationExecutionAttributeInstanceState)
+ private:
+  inline void set_has_attributehandle();
+  inline void clear_has_attributehandle();
+  inline void set_has_updaterate();
+  inline void clear_has_updaterate();
+  inline void set_has_transportationtypehandle();
+  inline void clear_has_transportationtypehandle();
+  inline void set_has_ordertype();
+  inline void clear_has_ordertype();
+  inline void set_has_owningfederatehandle();
+  inline void clear_has_owningfederatehandle();
+  inline void set_has_wantstodivest();
+  inline void clear_has_wantstodivest();
+  inline void set_has_divestingtag();
+  inline void clear_has_divestingtag();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  double updaterate_;
+  ::google::protobuf::uint32 attributehandle_;
+  ::google::protobuf::uint32 transportationtypehandle_;
+  int ordertype_;
+  ::google::protobuf::uint32 owningfederatehandle_;
+  ::std::string* divestingtag_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > requestingownershipfederatehandles_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle > regionrealizations_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation > pendingregionassociations_;
+  bool wantstodivest_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(10 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState : public ::google::protobuf::Message {
+ public:
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState();
+  virtual ~FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState();
+
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState& from);
+
+  inline FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState& operator=(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState& default_instance();
+
+  void Swap(FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState& from);
+  void MergeFrom(const FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState FederationExecutionAttributeInstanceState;
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 producingFederateHandle = 1;
+  inline bool has_producingfederatehandle() const;
+  inline void clear_producingfederatehandle();
+  static const int kProducingFederateHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 producingfederatehandle() const;
+  inline void set_producingfederatehandle(::google::protobuf::uint32 value);
+
+  // required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 2;
+  inline const ::ohla::rti::proto::ObjectInstanceHandle& objectinstancehandle() const;
+  inline ::ohla::rti::proto::ObjectInstanceHandle* mutable_objectinstancehandle();
+  inline ::ohla::rti::proto::ObjectInstanceHandle* release_objectinstancehandle();
+  inline void set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle);
+
+  // required uint32 objectClassHandle = 3;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 3;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // required string objectInstanceName = 4;
+  inline bool has_objectinstancename() const;
+  inline void clear_objectinstancename();
+  static const int kObjectInstanceNameFieldNumber = 4;
+  inline const ::std::string& objectinstancename() const;
+  inline void set_objectinstancename(const ::std::string& value);
+  inline void set_objectinstancename(const char* value);
+  inline void set_objectinstancename(const char* value, size_t size);
+  inline ::std::string* mutable_objectinstancename();
+  inline ::std::string* release_objectinstancename();
+  inline void set_allocated_objectinstancename(::std::string* objectinstancename);
+
+  // repeated .ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState.FederationExecutionAttributeInstanceState attributeInstanceStates = 5;
+  inline int attributeinstancestates_size() const;
+  inline void clear_attributeinstancestates();
+  static const int kAttributeInstanceStatesFieldNumber = 5;
+  inline const ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState& attributeinstancestates(int index) const;
+  inline ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState* mutable_attributeinstancestates(int index);
+  inline ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState* add_attributeinstancestates();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState >&
+      attributeinstancestates() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState >*
+      mutable_attributeinstancestates();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState)
+ private:
+  inline void set_has_producingfederatehandle();
+  inline void clear_has_producingfederatehandle();
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+  inline void set_has_objectinstancename();
+  inline void clear_has_objectinstancename();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle_;
+  ::google::protobuf::uint32 producingfederatehandle_;
+  ::google::protobuf::uint32 objectclasshandle_;
+  ::std::string* objectinstancename_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState > attributeinstancestates_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(5 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationExecutionState_FederationExecutionObjectManagerState : public ::google::protobuf::Message {
+ public:
+  FederationExecutionState_FederationExecutionObjectManagerState();
+  virtual ~FederationExecutionState_FederationExecutionObjectManagerState();
+
+  FederationExecutionState_FederationExecutionObjectManagerState(const FederationExecutionState_FederationExecutionObjectManagerState& from);
+
+  inline FederationExecutionState_FederationExecutionObjectManagerState& operator=(const FederationExecutionState_FederationExecutionObjectManagerState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationExecutionState_FederationExecutionObjectManagerState& default_instance();
+
+  void Swap(FederationExecutionState_FederationExecutionObjectManagerState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationExecutionState_FederationExecutionObjectManagerState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationExecutionState_FederationExecutionObjectManagerState& from);
+  void MergeFrom(const FederationExecutionState_FederationExecutionObjectManagerState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName ReservedObjectInstanceName;
+  typedef FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState FederationExecutionObjectInstanceState;
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 reservedObjectInstanceNameCount = 1;
+  inline bool has_reservedobjectinstancenamecount() const;
+  inline void clear_reservedobjectinstancenamecount();
+  static const int kReservedObjectInstanceNameCountFieldNumber = 1;
+  inline ::google::protobuf::uint32 reservedobjectinstancenamecount() const;
+  inline void set_reservedobjectinstancenamecount(::google::protobuf::uint32 value);
+
+  // required uint32 objectInstanceStateCount = 2;
+  inline bool has_objectinstancestatecount() const;
+  inline void clear_objectinstancestatecount();
+  static const int kObjectInstanceStateCountFieldNumber = 2;
+  inline ::google::protobuf::uint32 objectinstancestatecount() const;
+  inline void set_objectinstancestatecount(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState)
+ private:
+  inline void set_has_reservedobjectinstancenamecount();
+  inline void clear_has_reservedobjectinstancenamecount();
+  inline void set_has_objectinstancestatecount();
+  inline void clear_has_objectinstancestatecount();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 reservedobjectinstancenamecount_;
+  ::google::protobuf::uint32 objectinstancestatecount_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationExecutionState_FederationExecutionObjectManagerState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState : public ::google::protobuf::Message {
+ public:
+  FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState();
+  virtual ~FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState();
+
+  FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState(const FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState& from);
+
+  inline FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState& operator=(const FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState& default_instance();
+
+  void Swap(FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState& from);
+  void MergeFrom(const FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  inline bool has_regionhandle() const;
+  inline void clear_regionhandle();
+  static const int kRegionHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::RegionHandle& regionhandle() const;
+  inline ::ohla::rti::proto::RegionHandle* mutable_regionhandle();
+  inline ::ohla::rti::proto::RegionHandle* release_regionhandle();
+  inline void set_allocated_regionhandle(::ohla::rti::proto::RegionHandle* regionhandle);
+
+  // repeated .ohla.rti.proto.DimensionRangeBound rangeBounds = 2;
+  inline int rangebounds_size() const;
+  inline void clear_rangebounds();
+  static const int kRangeBoundsFieldNumber = 2;
+  inline const ::ohla::rti::proto::DimensionRangeBound& rangebounds(int index) const;
+  inline ::ohla::rti::proto::DimensionRangeBound* mutable_rangebounds(int index);
+  inline ::ohla::rti::proto::DimensionRangeBound* add_rangebounds();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >&
+      rangebounds() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >*
+      mutable_rangebounds();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederationExecutionState.FederationExecutionRegionManagerState.FederationExecutionRegionState)
+ private:
+  inline void set_has_regionhandle();
+  inline void clear_has_regionhandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::RegionHandle* regionhandle_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound > rangebounds_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationExecutionState_FederationExecutionRegionManagerState : public ::google::protobuf::Message {
+ public:
+  FederationExecutionState_FederationExecutionRegionManagerState();
+  virtual ~FederationExecutionState_FederationExecutionRegionManagerState();
+
+  FederationExecutionState_FederationExecutionRegionManagerState(const FederationExecutionState_FederationExecutionRegionManagerState& from);
+
+  inline FederationExecutionState_FederationExecutionRegionManagerState& operator=(const FederationExecutionState_FederationExecutionRegionManagerState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationExecutionState_FederationExecutionRegionManagerState& default_instance();
+
+  void Swap(FederationExecutionState_FederationExecutionRegionManagerState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationExecutionState_FederationExecutionRegionManagerState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationExecutionState_FederationExecutionRegionManagerState& from);
+  void MergeFrom(const FederationExecutionState_FederationExecutionRegionManagerState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState FederationExecutionRegionState;
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 regionStateCount = 1;
+  inline bool has_regionstatecount() const;
+  inline void clear_regionstatecount();
+  static const int kRegionStateCountFieldNumber = 1;
+  inline ::google::protobuf::uint32 regionstatecount() const;
+  inline void set_regionstatecount(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederationExecutionState.FederationExecutionRegionManagerState)
+ private:
+  inline void set_has_regionstatecount();
+  inline void clear_has_regionstatecount();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 regionstatecount_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationExecutionState_FederationExecutionRegionManagerState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationExecutionState_FederationExecutionTimeManagerState : public ::google::protobuf::Message {
+ public:
+  FederationExecutionState_FederationExecutionTimeManagerState();
+  virtual ~FederationExecutionState_FederationExecutionTimeManagerState();
+
+  FederationExecutionState_FederationExecutionTimeManagerState(const FederationExecutionState_FederationExecutionTimeManagerState& from);
+
+  inline FederationExecutionState_FederationExecutionTimeManagerState& operator=(const FederationExecutionState_FederationExecutionTimeManagerState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationExecutionState_FederationExecutionTimeManagerState& default_instance();
+
+  void Swap(FederationExecutionState_FederationExecutionTimeManagerState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationExecutionState_FederationExecutionTimeManagerState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationExecutionState_FederationExecutionTimeManagerState& from);
+  void MergeFrom(const FederationExecutionState_FederationExecutionTimeManagerState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated uint32 timeRegulatingFederateHandles = 1;
+  inline int timeregulatingfederatehandles_size() const;
+  inline void clear_timeregulatingfederatehandles();
+  static const int kTimeRegulatingFederateHandlesFieldNumber = 1;
+  inline ::google::protobuf::uint32 timeregulatingfederatehandles(int index) const;
+  inline void set_timeregulatingfederatehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_timeregulatingfederatehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      timeregulatingfederatehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_timeregulatingfederatehandles();
+
+  // repeated uint32 timeConstrainedFederateHandles = 2;
+  inline int timeconstrainedfederatehandles_size() const;
+  inline void clear_timeconstrainedfederatehandles();
+  static const int kTimeConstrainedFederateHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 timeconstrainedfederatehandles(int index) const;
+  inline void set_timeconstrainedfederatehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_timeconstrainedfederatehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      timeconstrainedfederatehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_timeconstrainedfederatehandles();
+
+  // optional bytes galt = 3;
+  inline bool has_galt() const;
+  inline void clear_galt();
+  static const int kGaltFieldNumber = 3;
+  inline const ::std::string& galt() const;
+  inline void set_galt(const ::std::string& value);
+  inline void set_galt(const char* value);
+  inline void set_galt(const void* value, size_t size);
+  inline ::std::string* mutable_galt();
+  inline ::std::string* release_galt();
+  inline void set_allocated_galt(::std::string* galt);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederationExecutionState.FederationExecutionTimeManagerState)
+ private:
+  inline void set_has_galt();
+  inline void clear_has_galt();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > timeregulatingfederatehandles_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > timeconstrainedfederatehandles_;
+  ::std::string* galt_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationExecutionState_FederationExecutionTimeManagerState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederationExecutionState : public ::google::protobuf::Message {
+ public:
+  FederationExecutionState();
+  virtual ~FederationExecutionState();
+
+  FederationExecutionState(const FederationExecutionState& from);
+
+  inline FederationExecutionState& operator=(const FederationExecutionState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederationExecutionState& default_instance();
+
+  void Swap(FederationExecutionState* other);
+
+  // implements Message ----------------------------------------------
+
+  FederationExecutionState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederationExecutionState& from);
+  void MergeFrom(const FederationExecutionState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FederationExecutionState_FederationExecutionSynchonizationPointState FederationExecutionSynchonizationPointState;
+  typedef FederationExecutionState_FederationExecutionObjectManagerState FederationExecutionObjectManagerState;
+  typedef FederationExecutionState_FederationExecutionRegionManagerState FederationExecutionRegionManagerState;
+  typedef FederationExecutionState_FederationExecutionTimeManagerState FederationExecutionTimeManagerState;
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 nextFederateHandle = 1;
+  inline bool has_nextfederatehandle() const;
+  inline void clear_nextfederatehandle();
+  static const int kNextFederateHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 nextfederatehandle() const;
+  inline void set_nextfederatehandle(::google::protobuf::uint32 value);
+
+  // required uint32 synchonizationPointStateCount = 2;
+  inline bool has_synchonizationpointstatecount() const;
+  inline void clear_synchonizationpointstatecount();
+  static const int kSynchonizationPointStateCountFieldNumber = 2;
+  inline ::google::protobuf::uint32 synchonizationpointstatecount() const;
+  inline void set_synchonizationpointstatecount(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FederationExecutionState)
+ private:
+  inline void set_has_nextfederatehandle();
+  inline void clear_has_nextfederatehandle();
+  inline void set_has_synchonizationpointstatecount();
+  inline void clear_has_synchonizationpointstatecount();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 nextfederatehandle_;
+  ::google::protobuf::uint32 synchonizationpointstatecount_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederationExecutionState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class SavedFederationExecutionMessage : public ::google::protobuf::Message {
+ public:
+  SavedFederationExecutionMessage();
+  virtual ~SavedFederationExecutionMessage();
+
+  SavedFederationExecutionMessage(const SavedFederationExecutionMessage& from);
+
+  inline SavedFederationExecutionMessage& operator=(const SavedFederationExecutionMessage& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const SavedFederationExecutionMessage& default_instance();
+
+  void Swap(SavedFederationExecutionMessage* other);
+
+  // implements Message ----------------------------------------------
+
+  SavedFederationExecutionMessage* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const SavedFederationExecutionMessage& from);
+  void MergeFrom(const SavedFederationExecutionMessage& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 sendingFederateHandle = 1;
+  inline bool has_sendingfederatehandle() const;
+  inline void clear_sendingfederatehandle();
+  static const int kSendingFederateHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 sendingfederatehandle() const;
+  inline void set_sendingfederatehandle(::google::protobuf::uint32 value);
+
+  // required .ohla.rti.messages.proto.MessageType federationExecutionMessageType = 2;
+  inline bool has_federationexecutionmessagetype() const;
+  inline void clear_federationexecutionmessagetype();
+  static const int kFederationExecutionMessageTypeFieldNumber = 2;
+  inline ::ohla::rti::messages::proto::MessageType federationexecutionmessagetype() const;
+  inline void set_federationexecutionmessagetype(::ohla::rti::messages::proto::MessageType value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.SavedFederationExecutionMessage)
+ private:
+  inline void set_has_sendingfederatehandle();
+  inline void clear_has_sendingfederatehandle();
+  inline void set_has_federationexecutionmessagetype();
+  inline void clear_has_federationexecutionmessagetype();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 sendingfederatehandle_;
+  int federationexecutionmessagetype_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_AssignDesc_FederationExecutionSaveProtos_2eproto();
+  friend void protobuf_ShutdownFile_FederationExecutionSaveProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static SavedFederationExecutionMessage* default_instance_;
+};
+// ===================================================================
+
+
+// ===================================================================
+
+// FederationExecutionSaveHeader
+
+// required string label = 1;
+inline bool FederationExecutionSaveHeader::has_label() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederationExecutionSaveHeader::set_has_label() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederationExecutionSaveHeader::clear_has_label() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederationExecutionSaveHeader::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& FederationExecutionSaveHeader::label() const {
+  return *label_;
+}
+inline void FederationExecutionSaveHeader::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void FederationExecutionSaveHeader::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void FederationExecutionSaveHeader::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederationExecutionSaveHeader::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* FederationExecutionSaveHeader::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederationExecutionSaveHeader::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required string federationExecutionName = 2;
+inline bool FederationExecutionSaveHeader::has_federationexecutionname() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederationExecutionSaveHeader::set_has_federationexecutionname() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederationExecutionSaveHeader::clear_has_federationexecutionname() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederationExecutionSaveHeader::clear_federationexecutionname() {
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_->clear();
+  }
+  clear_has_federationexecutionname();
+}
+inline const ::std::string& FederationExecutionSaveHeader::federationexecutionname() const {
+  return *federationexecutionname_;
+}
+inline void FederationExecutionSaveHeader::set_federationexecutionname(const ::std::string& value) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(value);
+}
+inline void FederationExecutionSaveHeader::set_federationexecutionname(const char* value) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(value);
+}
+inline void FederationExecutionSaveHeader::set_federationexecutionname(const char* value, size_t size) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederationExecutionSaveHeader::mutable_federationexecutionname() {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  return federationexecutionname_;
+}
+inline ::std::string* FederationExecutionSaveHeader::release_federationexecutionname() {
+  clear_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federationexecutionname_;
+    federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederationExecutionSaveHeader::set_allocated_federationexecutionname(::std::string* federationexecutionname) {
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    delete federationexecutionname_;
+  }
+  if (federationexecutionname) {
+    set_has_federationexecutionname();
+    federationexecutionname_ = federationexecutionname;
+  } else {
+    clear_has_federationexecutionname();
+    federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required uint32 federateCount = 3;
+inline bool FederationExecutionSaveHeader::has_federatecount() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FederationExecutionSaveHeader::set_has_federatecount() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FederationExecutionSaveHeader::clear_has_federatecount() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FederationExecutionSaveHeader::clear_federatecount() {
+  federatecount_ = 0u;
+  clear_has_federatecount();
+}
+inline ::google::protobuf::uint32 FederationExecutionSaveHeader::federatecount() const {
+  return federatecount_;
+}
+inline void FederationExecutionSaveHeader::set_federatecount(::google::protobuf::uint32 value) {
+  set_has_federatecount();
+  federatecount_ = value;
+}
+
+// optional bytes saveTime = 4;
+inline bool FederationExecutionSaveHeader::has_savetime() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void FederationExecutionSaveHeader::set_has_savetime() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void FederationExecutionSaveHeader::clear_has_savetime() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void FederationExecutionSaveHeader::clear_savetime() {
+  if (savetime_ != &::google::protobuf::internal::kEmptyString) {
+    savetime_->clear();
+  }
+  clear_has_savetime();
+}
+inline const ::std::string& FederationExecutionSaveHeader::savetime() const {
+  return *savetime_;
+}
+inline void FederationExecutionSaveHeader::set_savetime(const ::std::string& value) {
+  set_has_savetime();
+  if (savetime_ == &::google::protobuf::internal::kEmptyString) {
+    savetime_ = new ::std::string;
+  }
+  savetime_->assign(value);
+}
+inline void FederationExecutionSaveHeader::set_savetime(const char* value) {
+  set_has_savetime();
+  if (savetime_ == &::google::protobuf::internal::kEmptyString) {
+    savetime_ = new ::std::string;
+  }
+  savetime_->assign(value);
+}
+inline void FederationExecutionSaveHeader::set_savetime(const void* value, size_t size) {
+  set_has_savetime();
+  if (savetime_ == &::google::protobuf::internal::kEmptyString) {
+    savetime_ = new ::std::string;
+  }
+  savetime_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederationExecutionSaveHeader::mutable_savetime() {
+  set_has_savetime();
+  if (savetime_ == &::google::protobuf::internal::kEmptyString) {
+    savetime_ = new ::std::string;
+  }
+  return savetime_;
+}
+inline ::std::string* FederationExecutionSaveHeader::release_savetime() {
+  clear_has_savetime();
+  if (savetime_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = savetime_;
+    savetime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederationExecutionSaveHeader::set_allocated_savetime(::std::string* savetime) {
+  if (savetime_ != &::google::protobuf::internal::kEmptyString) {
+    delete savetime_;
+  }
+  if (savetime) {
+    set_has_savetime();
+    savetime_ = savetime;
+  } else {
+    clear_has_savetime();
+    savetime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required .ohla.rti.proto.FDD fdd = 5;
+inline bool FederationExecutionSaveHeader::has_fdd() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void FederationExecutionSaveHeader::set_has_fdd() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void FederationExecutionSaveHeader::clear_has_fdd() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void FederationExecutionSaveHeader::clear_fdd() {
+  if (fdd_ != NULL) fdd_->::ohla::rti::proto::FDD::Clear();
+  clear_has_fdd();
+}
+inline const ::ohla::rti::proto::FDD& FederationExecutionSaveHeader::fdd() const {
+  return fdd_ != NULL ? *fdd_ : *default_instance_->fdd_;
+}
+inline ::ohla::rti::proto::FDD* FederationExecutionSaveHeader::mutable_fdd() {
+  set_has_fdd();
+  if (fdd_ == NULL) fdd_ = new ::ohla::rti::proto::FDD;
+  return fdd_;
+}
+inline ::ohla::rti::proto::FDD* FederationExecutionSaveHeader::release_fdd() {
+  clear_has_fdd();
+  ::ohla::rti::proto::FDD* temp = fdd_;
+  fdd_ = NULL;
+  return temp;
+}
+inline void FederationExecutionSaveHeader::set_allocated_fdd(::ohla::rti::proto::FDD* fdd) {
+  delete fdd_;
+  fdd_ = fdd;
+  if (fdd) {
+    set_has_fdd();
+  } else {
+    clear_has_fdd();
+  }
+}
+
+// required uint64 realTime = 6;
+inline bool FederationExecutionSaveHeader::has_realtime() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void FederationExecutionSaveHeader::set_has_realtime() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void FederationExecutionSaveHeader::clear_has_realtime() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void FederationExecutionSaveHeader::clear_realtime() {
+  realtime_ = GOOGLE_ULONGLONG(0);
+  clear_has_realtime();
+}
+inline ::google::protobuf::uint64 FederationExecutionSaveHeader::realtime() const {
+  return realtime_;
+}
+inline void FederationExecutionSaveHeader::set_realtime(::google::protobuf::uint64 value) {
+  set_has_realtime();
+  realtime_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederateSaveHeader
+
+// required uint32 federateHandle = 1;
+inline bool FederateSaveHeader::has_federatehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateSaveHeader::set_has_federatehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateSaveHeader::clear_has_federatehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateSaveHeader::clear_federatehandle() {
+  federatehandle_ = 0u;
+  clear_has_federatehandle();
+}
+inline ::google::protobuf::uint32 FederateSaveHeader::federatehandle() const {
+  return federatehandle_;
+}
+inline void FederateSaveHeader::set_federatehandle(::google::protobuf::uint32 value) {
+  set_has_federatehandle();
+  federatehandle_ = value;
+}
+
+// required string federateName = 2;
+inline bool FederateSaveHeader::has_federatename() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederateSaveHeader::set_has_federatename() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederateSaveHeader::clear_has_federatename() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederateSaveHeader::clear_federatename() {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    federatename_->clear();
+  }
+  clear_has_federatename();
+}
+inline const ::std::string& FederateSaveHeader::federatename() const {
+  return *federatename_;
+}
+inline void FederateSaveHeader::set_federatename(const ::std::string& value) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(value);
+}
+inline void FederateSaveHeader::set_federatename(const char* value) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(value);
+}
+inline void FederateSaveHeader::set_federatename(const char* value, size_t size) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateSaveHeader::mutable_federatename() {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  return federatename_;
+}
+inline ::std::string* FederateSaveHeader::release_federatename() {
+  clear_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federatename_;
+    federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateSaveHeader::set_allocated_federatename(::std::string* federatename) {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatename_;
+  }
+  if (federatename) {
+    set_has_federatename();
+    federatename_ = federatename;
+  } else {
+    clear_has_federatename();
+    federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required string federateType = 3;
+inline bool FederateSaveHeader::has_federatetype() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FederateSaveHeader::set_has_federatetype() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FederateSaveHeader::clear_has_federatetype() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FederateSaveHeader::clear_federatetype() {
+  if (federatetype_ != &::google::protobuf::internal::kEmptyString) {
+    federatetype_->clear();
+  }
+  clear_has_federatetype();
+}
+inline const ::std::string& FederateSaveHeader::federatetype() const {
+  return *federatetype_;
+}
+inline void FederateSaveHeader::set_federatetype(const ::std::string& value) {
+  set_has_federatetype();
+  if (federatetype_ == &::google::protobuf::internal::kEmptyString) {
+    federatetype_ = new ::std::string;
+  }
+  federatetype_->assign(value);
+}
+inline void FederateSaveHeader::set_federatetype(const char* value) {
+  set_has_federatetype();
+  if (federatetype_ == &::google::protobuf::internal::kEmptyString) {
+    federatetype_ = new ::std::string;
+  }
+  federatetype_->assign(value);
+}
+inline void FederateSaveHeader::set_federatetype(const char* value, size_t size) {
+  set_has_federatetype();
+  if (federatetype_ == &::google::protobuf::internal::kEmptyString) {
+    federatetype_ = new ::std::string;
+  }
+  federatetype_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateSaveHeader::mutable_federatetype() {
+  set_has_federatetype();
+  if (federatetype_ == &::google::protobuf::internal::kEmptyString) {
+    federatetype_ = new ::std::string;
+  }
+  return federatetype_;
+}
+inline ::std::string* FederateSaveHeader::release_federatetype() {
+  clear_has_federatetype();
+  if (federatetype_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federatetype_;
+    federatetype_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateSaveHeader::set_allocated_federatetype(::std::string* federatetype) {
+  if (federatetype_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatetype_;
+  }
+  if (federatetype) {
+    set_has_federatetype();
+    federatetype_ = federatetype;
+  } else {
+    clear_has_federatetype();
+    federatetype_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required uint64 federateStateLength = 4;
+inline bool FederateSaveHeader::has_federatestatelength() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void FederateSaveHeader::set_has_federatestatelength() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void FederateSaveHeader::clear_has_federatestatelength() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void FederateSaveHeader::clear_federatestatelength() {
+  federatestatelength_ = GOOGLE_ULONGLONG(0);
+  clear_has_federatestatelength();
+}
+inline ::google::protobuf::uint64 FederateSaveHeader::federatestatelength() const {
+  return federatestatelength_;
+}
+inline void FederateSaveHeader::set_federatestatelength(::google::protobuf::uint64 value) {
+  set_has_federatestatelength();
+  federatestatelength_ = value;
+}
+
+// required uint64 federateProxyStateLength = 5;
+inline bool FederateSaveHeader::has_federateproxystatelength() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void FederateSaveHeader::set_has_federateproxystatelength() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void FederateSaveHeader::clear_has_federateproxystatelength() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void FederateSaveHeader::clear_federateproxystatelength() {
+  federateproxystatelength_ = GOOGLE_ULONGLONG(0);
+  clear_has_federateproxystatelength();
+}
+inline ::google::protobuf::uint64 FederateSaveHeader::federateproxystatelength() const {
+  return federateproxystatelength_;
+}
+inline void FederateSaveHeader::set_federateproxystatelength(::google::protobuf::uint64 value) {
+  set_has_federateproxystatelength();
+  federateproxystatelength_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// HLA13RTIAmbassadorState_ObjectInstanceHandleMapping
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// required uint32 mapping = 2;
+inline bool HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::has_mapping() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::set_has_mapping() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::clear_has_mapping() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::clear_mapping() {
+  mapping_ = 0u;
+  clear_has_mapping();
+}
+inline ::google::protobuf::uint32 HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::mapping() const {
+  return mapping_;
+}
+inline void HLA13RTIAmbassadorState_ObjectInstanceHandleMapping::set_mapping(::google::protobuf::uint32 value) {
+  set_has_mapping();
+  mapping_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds
+
+// required uint64 upper = 1;
+inline bool HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::has_upper() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::set_has_upper() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::clear_has_upper() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::clear_upper() {
+  upper_ = GOOGLE_ULONGLONG(0);
+  clear_has_upper();
+}
+inline ::google::protobuf::uint64 HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::upper() const {
+  return upper_;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::set_upper(::google::protobuf::uint64 value) {
+  set_has_upper();
+  upper_ = value;
+}
+
+// required uint64 lower = 2;
+inline bool HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::has_lower() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::set_has_lower() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::clear_has_lower() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::clear_lower() {
+  lower_ = GOOGLE_ULONGLONG(0);
+  clear_has_lower();
+}
+inline ::google::protobuf::uint64 HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::lower() const {
+  return lower_;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds::set_lower(::google::protobuf::uint64 value) {
+  set_has_lower();
+  lower_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// HLA13RTIAmbassadorState_HLA13RegionState_ExtentState
+
+// required .ohla.rti.proto.RegionHandle regionHandle = 1;
+inline bool HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::has_regionhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::set_has_regionhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::clear_has_regionhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::clear_regionhandle() {
+  if (regionhandle_ != NULL) regionhandle_->::ohla::rti::proto::RegionHandle::Clear();
+  clear_has_regionhandle();
+}
+inline const ::ohla::rti::proto::RegionHandle& HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::regionhandle() const {
+  return regionhandle_ != NULL ? *regionhandle_ : *default_instance_->regionhandle_;
+}
+inline ::ohla::rti::proto::RegionHandle* HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::mutable_regionhandle() {
+  set_has_regionhandle();
+  if (regionhandle_ == NULL) regionhandle_ = new ::ohla::rti::proto::RegionHandle;
+  return regionhandle_;
+}
+inline ::ohla::rti::proto::RegionHandle* HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::release_regionhandle() {
+  clear_has_regionhandle();
+  ::ohla::rti::proto::RegionHandle* temp = regionhandle_;
+  regionhandle_ = NULL;
+  return temp;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::set_allocated_regionhandle(::ohla::rti::proto::RegionHandle* regionhandle) {
+  delete regionhandle_;
+  regionhandle_ = regionhandle;
+  if (regionhandle) {
+    set_has_regionhandle();
+  } else {
+    clear_has_regionhandle();
+  }
+}
+
+// repeated .ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState.ExtentState.RangeBounds rangeBounds = 2;
+inline int HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::rangebounds_size() const {
+  return rangebounds_.size();
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::clear_rangebounds() {
+  rangebounds_.Clear();
+}
+inline const ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds& HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::rangebounds(int index) const {
+  return rangebounds_.Get(index);
+}
+inline ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds* HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::mutable_rangebounds(int index) {
+  return rangebounds_.Mutable(index);
+}
+inline ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds* HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::add_rangebounds() {
+  return rangebounds_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds >&
+HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::rangebounds() const {
+  return rangebounds_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState_RangeBounds >*
+HLA13RTIAmbassadorState_HLA13RegionState_ExtentState::mutable_rangebounds() {
+  return &rangebounds_;
+}
+
+// -------------------------------------------------------------------
+
+// HLA13RTIAmbassadorState_HLA13RegionState
+
+// required uint32 token = 1;
+inline bool HLA13RTIAmbassadorState_HLA13RegionState::has_token() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState::set_has_token() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState::clear_has_token() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState::clear_token() {
+  token_ = 0u;
+  clear_has_token();
+}
+inline ::google::protobuf::uint32 HLA13RTIAmbassadorState_HLA13RegionState::token() const {
+  return token_;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState::set_token(::google::protobuf::uint32 value) {
+  set_has_token();
+  token_ = value;
+}
+
+// required uint32 routingSpaceHandle = 2;
+inline bool HLA13RTIAmbassadorState_HLA13RegionState::has_routingspacehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState::set_has_routingspacehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState::clear_has_routingspacehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState::clear_routingspacehandle() {
+  routingspacehandle_ = 0u;
+  clear_has_routingspacehandle();
+}
+inline ::google::protobuf::uint32 HLA13RTIAmbassadorState_HLA13RegionState::routingspacehandle() const {
+  return routingspacehandle_;
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState::set_routingspacehandle(::google::protobuf::uint32 value) {
+  set_has_routingspacehandle();
+  routingspacehandle_ = value;
+}
+
+// repeated .ohla.rti.proto.HLA13RTIAmbassadorState.HLA13RegionState.ExtentState extentStates = 3;
+inline int HLA13RTIAmbassadorState_HLA13RegionState::extentstates_size() const {
+  return extentstates_.size();
+}
+inline void HLA13RTIAmbassadorState_HLA13RegionState::clear_extentstates() {
+  extentstates_.Clear();
+}
+inline const ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState& HLA13RTIAmbassadorState_HLA13RegionState::extentstates(int index) const {
+  return extentstates_.Get(index);
+}
+inline ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState* HLA13RTIAmbassadorState_HLA13RegionState::mutable_extentstates(int index) {
+  return extentstates_.Mutable(index);
+}
+inline ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState* HLA13RTIAmbassadorState_HLA13RegionState::add_extentstates() {
+  return extentstates_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState >&
+HLA13RTIAmbassadorState_HLA13RegionState::extentstates() const {
+  return extentstates_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::HLA13RTIAmbassadorState_HLA13RegionState_ExtentState >*
+HLA13RTIAmbassadorState_HLA13RegionState::mutable_extentstates() {
+  return &extentstates_;
+}
+
+// -------------------------------------------------------------------
+
+// HLA13RTIAmbassadorState
+
+// required uint32 nextObjectInstanceHandle = 1;
+inline bool HLA13RTIAmbassadorState::has_nextobjectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void HLA13RTIAmbassadorState::set_has_nextobjectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void HLA13RTIAmbassadorState::clear_has_nextobjectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void HLA13RTIAmbassadorState::clear_nextobjectinstancehandle() {
+  nextobjectinstancehandle_ = 0u;
+  clear_has_nextobjectinstancehandle();
+}
+inline ::google::protobuf::uint32 HLA13RTIAmbassadorState::nextobjectinstancehandle() const {
+  return nextobjectinstancehandle_;
+}
+inline void HLA13RTIAmbassadorState::set_nextobjectinstancehandle(::google::protobuf::uint32 value) {
+  set_has_nextobjectinstancehandle();
+  nextobjectinstancehandle_ = value;
+}
+
+// required uint32 nextRegionToken = 2;
+inline bool HLA13RTIAmbassadorState::has_nextregiontoken() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void HLA13RTIAmbassadorState::set_has_nextregiontoken() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void HLA13RTIAmbassadorState::clear_has_nextregiontoken() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void HLA13RTIAmbassadorState::clear_nextregiontoken() {
+  nextregiontoken_ = 0u;
+  clear_has_nextregiontoken();
+}
+inline ::google::protobuf::uint32 HLA13RTIAmbassadorState::nextregiontoken() const {
+  return nextregiontoken_;
+}
+inline void HLA13RTIAmbassadorState::set_nextregiontoken(::google::protobuf::uint32 value) {
+  set_has_nextregiontoken();
+  nextregiontoken_ = value;
+}
+
+// required uint32 objectInstanceHandleMappingCount = 3;
+inline bool HLA13RTIAmbassadorState::has_objectinstancehandlemappingcount() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void HLA13RTIAmbassadorState::set_has_objectinstancehandlemappingcount() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void HLA13RTIAmbassadorState::clear_has_objectinstancehandlemappingcount() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void HLA13RTIAmbassadorState::clear_objectinstancehandlemappingcount() {
+  objectinstancehandlemappingcount_ = 0u;
+  clear_has_objectinstancehandlemappingcount();
+}
+inline ::google::protobuf::uint32 HLA13RTIAmbassadorState::objectinstancehandlemappingcount() const {
+  return objectinstancehandlemappingcount_;
+}
+inline void HLA13RTIAmbassadorState::set_objectinstancehandlemappingcount(::google::protobuf::uint32 value) {
+  set_has_objectinstancehandlemappingcount();
+  objectinstancehandlemappingcount_ = value;
+}
+
+// required uint32 regionCount = 4;
+inline bool HLA13RTIAmbassadorState::has_regioncount() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void HLA13RTIAmbassadorState::set_has_regioncount() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void HLA13RTIAmbassadorState::clear_has_regioncount() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void HLA13RTIAmbassadorState::clear_regioncount() {
+  regioncount_ = 0u;
+  clear_has_regioncount();
+}
+inline ::google::protobuf::uint32 HLA13RTIAmbassadorState::regioncount() const {
+  return regioncount_;
+}
+inline void HLA13RTIAmbassadorState::set_regioncount(::google::protobuf::uint32 value) {
+  set_has_regioncount();
+  regioncount_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederateState_FederateSynchonizationPointState
+
+// required string label = 1;
+inline bool FederateState_FederateSynchonizationPointState::has_label() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateState_FederateSynchonizationPointState::set_has_label() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateState_FederateSynchonizationPointState::clear_has_label() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateState_FederateSynchonizationPointState::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& FederateState_FederateSynchonizationPointState::label() const {
+  return *label_;
+}
+inline void FederateState_FederateSynchonizationPointState::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void FederateState_FederateSynchonizationPointState::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void FederateState_FederateSynchonizationPointState::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateState_FederateSynchonizationPointState::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* FederateState_FederateSynchonizationPointState::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateState_FederateSynchonizationPointState::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional bytes tag = 2;
+inline bool FederateState_FederateSynchonizationPointState::has_tag() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederateState_FederateSynchonizationPointState::set_has_tag() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederateState_FederateSynchonizationPointState::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederateState_FederateSynchonizationPointState::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& FederateState_FederateSynchonizationPointState::tag() const {
+  return *tag_;
+}
+inline void FederateState_FederateSynchonizationPointState::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void FederateState_FederateSynchonizationPointState::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void FederateState_FederateSynchonizationPointState::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateState_FederateSynchonizationPointState::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* FederateState_FederateSynchonizationPointState::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateState_FederateSynchonizationPointState::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required .ohla.rti.proto.FederateState.FederateSynchonizationPointState.State state = 3;
+inline bool FederateState_FederateSynchonizationPointState::has_state() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FederateState_FederateSynchonizationPointState::set_has_state() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FederateState_FederateSynchonizationPointState::clear_has_state() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FederateState_FederateSynchonizationPointState::clear_state() {
+  state_ = 1;
+  clear_has_state();
+}
+inline ::ohla::rti::proto::FederateState_FederateSynchonizationPointState_State FederateState_FederateSynchonizationPointState::state() const {
+  return static_cast< ::ohla::rti::proto::FederateState_FederateSynchonizationPointState_State >(state_);
+}
+inline void FederateState_FederateSynchonizationPointState::set_state(::ohla::rti::proto::FederateState_FederateSynchonizationPointState_State value) {
+  assert(::ohla::rti::proto::FederateState_FederateSynchonizationPointState_State_IsValid(value));
+  set_has_state();
+  state_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState
+
+// required uint32 attributeHandle = 1;
+inline bool FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::has_attributehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::set_has_attributehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::clear_has_attributehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::clear_attributehandle() {
+  attributehandle_ = 0u;
+  clear_has_attributehandle();
+}
+inline ::google::protobuf::uint32 FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::attributehandle() const {
+  return attributehandle_;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::set_attributehandle(::google::protobuf::uint32 value) {
+  set_has_attributehandle();
+  attributehandle_ = value;
+}
+
+// required uint32 transportationTypeHandle = 2;
+inline bool FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::has_transportationtypehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::set_has_transportationtypehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::clear_has_transportationtypehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::clear_transportationtypehandle() {
+  transportationtypehandle_ = 0u;
+  clear_has_transportationtypehandle();
+}
+inline ::google::protobuf::uint32 FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::transportationtypehandle() const {
+  return transportationtypehandle_;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::set_transportationtypehandle(::google::protobuf::uint32 value) {
+  set_has_transportationtypehandle();
+  transportationtypehandle_ = value;
+}
+
+// required .ohla.rti.proto.OrderType orderType = 3;
+inline bool FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::has_ordertype() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::set_has_ordertype() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::clear_has_ordertype() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::clear_ordertype() {
+  ordertype_ = 1;
+  clear_has_ordertype();
+}
+inline ::ohla::rti::proto::OrderType FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::ordertype() const {
+  return static_cast< ::ohla::rti::proto::OrderType >(ordertype_);
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::set_ordertype(::ohla::rti::proto::OrderType value) {
+  assert(::ohla::rti::proto::OrderType_IsValid(value));
+  set_has_ordertype();
+  ordertype_ = value;
+}
+
+// required bool divesting = 4;
+inline bool FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::has_divesting() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::set_has_divesting() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::clear_has_divesting() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::clear_divesting() {
+  divesting_ = false;
+  clear_has_divesting();
+}
+inline bool FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::divesting() const {
+  return divesting_;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState::set_divesting(bool value) {
+  set_has_divesting();
+  divesting_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederateState_FederateObjectManagerState_FederateObjectInstanceState
+
+// required uint32 producingFederateHandle = 1;
+inline bool FederateState_FederateObjectManagerState_FederateObjectInstanceState::has_producingfederatehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::set_has_producingfederatehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::clear_has_producingfederatehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::clear_producingfederatehandle() {
+  producingfederatehandle_ = 0u;
+  clear_has_producingfederatehandle();
+}
+inline ::google::protobuf::uint32 FederateState_FederateObjectManagerState_FederateObjectInstanceState::producingfederatehandle() const {
+  return producingfederatehandle_;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::set_producingfederatehandle(::google::protobuf::uint32 value) {
+  set_has_producingfederatehandle();
+  producingfederatehandle_ = value;
+}
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+inline bool FederateState_FederateObjectManagerState_FederateObjectInstanceState::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& FederateState_FederateObjectManagerState_FederateObjectInstanceState::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* FederateState_FederateObjectManagerState_FederateObjectInstanceState::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* FederateState_FederateObjectManagerState_FederateObjectInstanceState::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// required uint32 objectClassHandle = 3;
+inline bool FederateState_FederateObjectManagerState_FederateObjectInstanceState::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 FederateState_FederateObjectManagerState_FederateObjectInstanceState::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// required string objectInstanceName = 4;
+inline bool FederateState_FederateObjectManagerState_FederateObjectInstanceState::has_objectinstancename() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::set_has_objectinstancename() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::clear_has_objectinstancename() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::clear_objectinstancename() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_->clear();
+  }
+  clear_has_objectinstancename();
+}
+inline const ::std::string& FederateState_FederateObjectManagerState_FederateObjectInstanceState::objectinstancename() const {
+  return *objectinstancename_;
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::set_objectinstancename(const ::std::string& value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::set_objectinstancename(const char* value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::set_objectinstancename(const char* value, size_t size) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateState_FederateObjectManagerState_FederateObjectInstanceState::mutable_objectinstancename() {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  return objectinstancename_;
+}
+inline ::std::string* FederateState_FederateObjectManagerState_FederateObjectInstanceState::release_objectinstancename() {
+  clear_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = objectinstancename_;
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::set_allocated_objectinstancename(::std::string* objectinstancename) {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (objectinstancename) {
+    set_has_objectinstancename();
+    objectinstancename_ = objectinstancename;
+  } else {
+    clear_has_objectinstancename();
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// repeated .ohla.rti.proto.FederateState.FederateObjectManagerState.FederateObjectInstanceState.FederateAttributeInstanceState attributeInstanceStates = 5;
+inline int FederateState_FederateObjectManagerState_FederateObjectInstanceState::attributeinstancestates_size() const {
+  return attributeinstancestates_.size();
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::clear_attributeinstancestates() {
+  attributeinstancestates_.Clear();
+}
+inline const ::ohla::rti::proto::FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState& FederateState_FederateObjectManagerState_FederateObjectInstanceState::attributeinstancestates(int index) const {
+  return attributeinstancestates_.Get(index);
+}
+inline ::ohla::rti::proto::FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState* FederateState_FederateObjectManagerState_FederateObjectInstanceState::mutable_attributeinstancestates(int index) {
+  return attributeinstancestates_.Mutable(index);
+}
+inline ::ohla::rti::proto::FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState* FederateState_FederateObjectManagerState_FederateObjectInstanceState::add_attributeinstancestates() {
+  return attributeinstancestates_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState >&
+FederateState_FederateObjectManagerState_FederateObjectInstanceState::attributeinstancestates() const {
+  return attributeinstancestates_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederateState_FederateObjectManagerState_FederateObjectInstanceState_FederateAttributeInstanceState >*
+FederateState_FederateObjectManagerState_FederateObjectInstanceState::mutable_attributeinstancestates() {
+  return &attributeinstancestates_;
+}
+
+// repeated uint32 attributeHandlesBeingAcquired = 6;
+inline int FederateState_FederateObjectManagerState_FederateObjectInstanceState::attributehandlesbeingacquired_size() const {
+  return attributehandlesbeingacquired_.size();
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::clear_attributehandlesbeingacquired() {
+  attributehandlesbeingacquired_.Clear();
+}
+inline ::google::protobuf::uint32 FederateState_FederateObjectManagerState_FederateObjectInstanceState::attributehandlesbeingacquired(int index) const {
+  return attributehandlesbeingacquired_.Get(index);
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::set_attributehandlesbeingacquired(int index, ::google::protobuf::uint32 value) {
+  attributehandlesbeingacquired_.Set(index, value);
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::add_attributehandlesbeingacquired(::google::protobuf::uint32 value) {
+  attributehandlesbeingacquired_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FederateState_FederateObjectManagerState_FederateObjectInstanceState::attributehandlesbeingacquired() const {
+  return attributehandlesbeingacquired_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FederateState_FederateObjectManagerState_FederateObjectInstanceState::mutable_attributehandlesbeingacquired() {
+  return &attributehandlesbeingacquired_;
+}
+
+// repeated uint32 attributeHandlesBeingAcquiredIfAvailable = 7;
+inline int FederateState_FederateObjectManagerState_FederateObjectInstanceState::attributehandlesbeingacquiredifavailable_size() const {
+  return attributehandlesbeingacquiredifavailable_.size();
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::clear_attributehandlesbeingacquiredifavailable() {
+  attributehandlesbeingacquiredifavailable_.Clear();
+}
+inline ::google::protobuf::uint32 FederateState_FederateObjectManagerState_FederateObjectInstanceState::attributehandlesbeingacquiredifavailable(int index) const {
+  return attributehandlesbeingacquiredifavailable_.Get(index);
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::set_attributehandlesbeingacquiredifavailable(int index, ::google::protobuf::uint32 value) {
+  attributehandlesbeingacquiredifavailable_.Set(index, value);
+}
+inline void FederateState_FederateObjectManagerState_FederateObjectInstanceState::add_attributehandlesbeingacquiredifavailable(::google::protobuf::uint32 value) {
+  attributehandlesbeingacquiredifavailable_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FederateState_FederateObjectManagerState_FederateObjectInstanceState::attributehandlesbeingacquiredifavailable() const {
+  return attributehandlesbeingacquiredifavailable_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FederateState_FederateObjectManagerState_FederateObjectInstanceState::mutable_attributehandlesbeingacquiredifavailable() {
+  return &attributehandlesbeingacquiredifavailable_;
+}
+
+// -------------------------------------------------------------------
+
+// FederateState_FederateObjectManagerState
+
+// repeated .ohla.rti.proto.PublishedObjectClass publishedObjectClasses = 1;
+inline int FederateState_FederateObjectManagerState::publishedobjectclasses_size() const {
+  return publishedobjectclasses_.size();
+}
+inline void FederateState_FederateObjectManagerState::clear_publishedobjectclasses() {
+  publishedobjectclasses_.Clear();
+}
+inline const ::ohla::rti::proto::PublishedObjectClass& FederateState_FederateObjectManagerState::publishedobjectclasses(int index) const {
+  return publishedobjectclasses_.Get(index);
+}
+inline ::ohla::rti::proto::PublishedObjectClass* FederateState_FederateObjectManagerState::mutable_publishedobjectclasses(int index) {
+  return publishedobjectclasses_.Mutable(index);
+}
+inline ::ohla::rti::proto::PublishedObjectClass* FederateState_FederateObjectManagerState::add_publishedobjectclasses() {
+  return publishedobjectclasses_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::PublishedObjectClass >&
+FederateState_FederateObjectManagerState::publishedobjectclasses() const {
+  return publishedobjectclasses_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::PublishedObjectClass >*
+FederateState_FederateObjectManagerState::mutable_publishedobjectclasses() {
+  return &publishedobjectclasses_;
+}
+
+// repeated uint32 publishedInteractionClasses = 2;
+inline int FederateState_FederateObjectManagerState::publishedinteractionclasses_size() const {
+  return publishedinteractionclasses_.size();
+}
+inline void FederateState_FederateObjectManagerState::clear_publishedinteractionclasses() {
+  publishedinteractionclasses_.Clear();
+}
+inline ::google::protobuf::uint32 FederateState_FederateObjectManagerState::publishedinteractionclasses(int index) const {
+  return publishedinteractionclasses_.Get(index);
+}
+inline void FederateState_FederateObjectManagerState::set_publishedinteractionclasses(int index, ::google::protobuf::uint32 value) {
+  publishedinteractionclasses_.Set(index, value);
+}
+inline void FederateState_FederateObjectManagerState::add_publishedinteractionclasses(::google::protobuf::uint32 value) {
+  publishedinteractionclasses_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FederateState_FederateObjectManagerState::publishedinteractionclasses() const {
+  return publishedinteractionclasses_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FederateState_FederateObjectManagerState::mutable_publishedinteractionclasses() {
+  return &publishedinteractionclasses_;
+}
+
+// repeated string reservedObjectInstanceNames = 3;
+inline int FederateState_FederateObjectManagerState::reservedobjectinstancenames_size() const {
+  return reservedobjectinstancenames_.size();
+}
+inline void FederateState_FederateObjectManagerState::clear_reservedobjectinstancenames() {
+  reservedobjectinstancenames_.Clear();
+}
+inline const ::std::string& FederateState_FederateObjectManagerState::reservedobjectinstancenames(int index) const {
+  return reservedobjectinstancenames_.Get(index);
+}
+inline ::std::string* FederateState_FederateObjectManagerState::mutable_reservedobjectinstancenames(int index) {
+  return reservedobjectinstancenames_.Mutable(index);
+}
+inline void FederateState_FederateObjectManagerState::set_reservedobjectinstancenames(int index, const ::std::string& value) {
+  reservedobjectinstancenames_.Mutable(index)->assign(value);
+}
+inline void FederateState_FederateObjectManagerState::set_reservedobjectinstancenames(int index, const char* value) {
+  reservedobjectinstancenames_.Mutable(index)->assign(value);
+}
+inline void FederateState_FederateObjectManagerState::set_reservedobjectinstancenames(int index, const char* value, size_t size) {
+  reservedobjectinstancenames_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateState_FederateObjectManagerState::add_reservedobjectinstancenames() {
+  return reservedobjectinstancenames_.Add();
+}
+inline void FederateState_FederateObjectManagerState::add_reservedobjectinstancenames(const ::std::string& value) {
+  reservedobjectinstancenames_.Add()->assign(value);
+}
+inline void FederateState_FederateObjectManagerState::add_reservedobjectinstancenames(const char* value) {
+  reservedobjectinstancenames_.Add()->assign(value);
+}
+inline void FederateState_FederateObjectManagerState::add_reservedobjectinstancenames(const char* value, size_t size) {
+  reservedobjectinstancenames_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+FederateState_FederateObjectManagerState::reservedobjectinstancenames() const {
+  return reservedobjectinstancenames_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+FederateState_FederateObjectManagerState::mutable_reservedobjectinstancenames() {
+  return &reservedobjectinstancenames_;
+}
+
+// repeated string objectInstanceNamesBeingReserved = 4;
+inline int FederateState_FederateObjectManagerState::objectinstancenamesbeingreserved_size() const {
+  return objectinstancenamesbeingreserved_.size();
+}
+inline void FederateState_FederateObjectManagerState::clear_objectinstancenamesbeingreserved() {
+  objectinstancenamesbeingreserved_.Clear();
+}
+inline const ::std::string& FederateState_FederateObjectManagerState::objectinstancenamesbeingreserved(int index) const {
+  return objectinstancenamesbeingreserved_.Get(index);
+}
+inline ::std::string* FederateState_FederateObjectManagerState::mutable_objectinstancenamesbeingreserved(int index) {
+  return objectinstancenamesbeingreserved_.Mutable(index);
+}
+inline void FederateState_FederateObjectManagerState::set_objectinstancenamesbeingreserved(int index, const ::std::string& value) {
+  objectinstancenamesbeingreserved_.Mutable(index)->assign(value);
+}
+inline void FederateState_FederateObjectManagerState::set_objectinstancenamesbeingreserved(int index, const char* value) {
+  objectinstancenamesbeingreserved_.Mutable(index)->assign(value);
+}
+inline void FederateState_FederateObjectManagerState::set_objectinstancenamesbeingreserved(int index, const char* value, size_t size) {
+  objectinstancenamesbeingreserved_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateState_FederateObjectManagerState::add_objectinstancenamesbeingreserved() {
+  return objectinstancenamesbeingreserved_.Add();
+}
+inline void FederateState_FederateObjectManagerState::add_objectinstancenamesbeingreserved(const ::std::string& value) {
+  objectinstancenamesbeingreserved_.Add()->assign(value);
+}
+inline void FederateState_FederateObjectManagerState::add_objectinstancenamesbeingreserved(const char* value) {
+  objectinstancenamesbeingreserved_.Add()->assign(value);
+}
+inline void FederateState_FederateObjectManagerState::add_objectinstancenamesbeingreserved(const char* value, size_t size) {
+  objectinstancenamesbeingreserved_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+FederateState_FederateObjectManagerState::objectinstancenamesbeingreserved() const {
+  return objectinstancenamesbeingreserved_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+FederateState_FederateObjectManagerState::mutable_objectinstancenamesbeingreserved() {
+  return &objectinstancenamesbeingreserved_;
+}
+
+// required uint32 nextObjectInstanceHandle = 5;
+inline bool FederateState_FederateObjectManagerState::has_nextobjectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void FederateState_FederateObjectManagerState::set_has_nextobjectinstancehandle() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void FederateState_FederateObjectManagerState::clear_has_nextobjectinstancehandle() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void FederateState_FederateObjectManagerState::clear_nextobjectinstancehandle() {
+  nextobjectinstancehandle_ = 0u;
+  clear_has_nextobjectinstancehandle();
+}
+inline ::google::protobuf::uint32 FederateState_FederateObjectManagerState::nextobjectinstancehandle() const {
+  return nextobjectinstancehandle_;
+}
+inline void FederateState_FederateObjectManagerState::set_nextobjectinstancehandle(::google::protobuf::uint32 value) {
+  set_has_nextobjectinstancehandle();
+  nextobjectinstancehandle_ = value;
+}
+
+// required uint32 objectInstanceStateCount = 6;
+inline bool FederateState_FederateObjectManagerState::has_objectinstancestatecount() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void FederateState_FederateObjectManagerState::set_has_objectinstancestatecount() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void FederateState_FederateObjectManagerState::clear_has_objectinstancestatecount() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void FederateState_FederateObjectManagerState::clear_objectinstancestatecount() {
+  objectinstancestatecount_ = 0u;
+  clear_has_objectinstancestatecount();
+}
+inline ::google::protobuf::uint32 FederateState_FederateObjectManagerState::objectinstancestatecount() const {
+  return objectinstancestatecount_;
+}
+inline void FederateState_FederateObjectManagerState::set_objectinstancestatecount(::google::protobuf::uint32 value) {
+  set_has_objectinstancestatecount();
+  objectinstancestatecount_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 1;
+inline bool FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FederateState_FederateRegionManagerState_FederateRegionState_AssociatedObject::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass
+
+// required uint32 objectClassHandle = 1;
+inline bool FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// FederateState_FederateRegionManagerState_FederateRegionState
+
+// required .ohla.rti.proto.RegionHandle regionHandle = 1;
+inline bool FederateState_FederateRegionManagerState_FederateRegionState::has_regionhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState::set_has_regionhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState::clear_has_regionhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState::clear_regionhandle() {
+  if (regionhandle_ != NULL) regionhandle_->::ohla::rti::proto::RegionHandle::Clear();
+  clear_has_regionhandle();
+}
+inline const ::ohla::rti::proto::RegionHandle& FederateState_FederateRegionManagerState_FederateRegionState::regionhandle() const {
+  return regionhandle_ != NULL ? *regionhandle_ : *default_instance_->regionhandle_;
+}
+inline ::ohla::rti::proto::RegionHandle* FederateState_FederateRegionManagerState_FederateRegionState::mutable_regionhandle() {
+  set_has_regionhandle();
+  if (regionhandle_ == NULL) regionhandle_ = new ::ohla::rti::proto::RegionHandle;
+  return regionhandle_;
+}
+inline ::ohla::rti::proto::RegionHandle* FederateState_FederateRegionManagerState_FederateRegionState::release_regionhandle() {
+  clear_has_regionhandle();
+  ::ohla::rti::proto::RegionHandle* temp = regionhandle_;
+  regionhandle_ = NULL;
+  return temp;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState::set_allocated_regionhandle(::ohla::rti::proto::RegionHandle* regionhandle) {
+  delete regionhandle_;
+  regionhandle_ = regionhandle;
+  if (regionhandle) {
+    set_has_regionhandle();
+  } else {
+    clear_has_regionhandle();
+  }
+}
+
+// repeated .ohla.rti.proto.DimensionRangeBound rangeBounds = 2;
+inline int FederateState_FederateRegionManagerState_FederateRegionState::rangebounds_size() const {
+  return rangebounds_.size();
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState::clear_rangebounds() {
+  rangebounds_.Clear();
+}
+inline const ::ohla::rti::proto::DimensionRangeBound& FederateState_FederateRegionManagerState_FederateRegionState::rangebounds(int index) const {
+  return rangebounds_.Get(index);
+}
+inline ::ohla::rti::proto::DimensionRangeBound* FederateState_FederateRegionManagerState_FederateRegionState::mutable_rangebounds(int index) {
+  return rangebounds_.Mutable(index);
+}
+inline ::ohla::rti::proto::DimensionRangeBound* FederateState_FederateRegionManagerState_FederateRegionState::add_rangebounds() {
+  return rangebounds_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >&
+FederateState_FederateRegionManagerState_FederateRegionState::rangebounds() const {
+  return rangebounds_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >*
+FederateState_FederateRegionManagerState_FederateRegionState::mutable_rangebounds() {
+  return &rangebounds_;
+}
+
+// repeated .ohla.rti.proto.DimensionRangeBound uncommittedRangeBounds = 3;
+inline int FederateState_FederateRegionManagerState_FederateRegionState::uncommittedrangebounds_size() const {
+  return uncommittedrangebounds_.size();
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState::clear_uncommittedrangebounds() {
+  uncommittedrangebounds_.Clear();
+}
+inline const ::ohla::rti::proto::DimensionRangeBound& FederateState_FederateRegionManagerState_FederateRegionState::uncommittedrangebounds(int index) const {
+  return uncommittedrangebounds_.Get(index);
+}
+inline ::ohla::rti::proto::DimensionRangeBound* FederateState_FederateRegionManagerState_FederateRegionState::mutable_uncommittedrangebounds(int index) {
+  return uncommittedrangebounds_.Mutable(index);
+}
+inline ::ohla::rti::proto::DimensionRangeBound* FederateState_FederateRegionManagerState_FederateRegionState::add_uncommittedrangebounds() {
+  return uncommittedrangebounds_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >&
+FederateState_FederateRegionManagerState_FederateRegionState::uncommittedrangebounds() const {
+  return uncommittedrangebounds_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >*
+FederateState_FederateRegionManagerState_FederateRegionState::mutable_uncommittedrangebounds() {
+  return &uncommittedrangebounds_;
+}
+
+// repeated .ohla.rti.proto.FederateState.FederateRegionManagerState.FederateRegionState.SubscribedObjectClass subscribedObjectClasses = 4;
+inline int FederateState_FederateRegionManagerState_FederateRegionState::subscribedobjectclasses_size() const {
+  return subscribedobjectclasses_.size();
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState::clear_subscribedobjectclasses() {
+  subscribedobjectclasses_.Clear();
+}
+inline const ::ohla::rti::proto::FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass& FederateState_FederateRegionManagerState_FederateRegionState::subscribedobjectclasses(int index) const {
+  return subscribedobjectclasses_.Get(index);
+}
+inline ::ohla::rti::proto::FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass* FederateState_FederateRegionManagerState_FederateRegionState::mutable_subscribedobjectclasses(int index) {
+  return subscribedobjectclasses_.Mutable(index);
+}
+inline ::ohla::rti::proto::FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass* FederateState_FederateRegionManagerState_FederateRegionState::add_subscribedobjectclasses() {
+  return subscribedobjectclasses_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass >&
+FederateState_FederateRegionManagerState_FederateRegionState::subscribedobjectclasses() const {
+  return subscribedobjectclasses_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederateState_FederateRegionManagerState_FederateRegionState_SubscribedObjectClass >*
+FederateState_FederateRegionManagerState_FederateRegionState::mutable_subscribedobjectclasses() {
+  return &subscribedobjectclasses_;
+}
+
+// repeated uint32 subscribedInteractionClasses = 5;
+inline int FederateState_FederateRegionManagerState_FederateRegionState::subscribedinteractionclasses_size() const {
+  return subscribedinteractionclasses_.size();
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState::clear_subscribedinteractionclasses() {
+  subscribedinteractionclasses_.Clear();
+}
+inline ::google::protobuf::uint32 FederateState_FederateRegionManagerState_FederateRegionState::subscribedinteractionclasses(int index) const {
+  return subscribedinteractionclasses_.Get(index);
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState::set_subscribedinteractionclasses(int index, ::google::protobuf::uint32 value) {
+  subscribedinteractionclasses_.Set(index, value);
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState::add_subscribedinteractionclasses(::google::protobuf::uint32 value) {
+  subscribedinteractionclasses_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FederateState_FederateRegionManagerState_FederateRegionState::subscribedinteractionclasses() const {
+  return subscribedinteractionclasses_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FederateState_FederateRegionManagerState_FederateRegionState::mutable_subscribedinteractionclasses() {
+  return &subscribedinteractionclasses_;
+}
+
+// required uint32 associatedObjectCount = 6;
+inline bool FederateState_FederateRegionManagerState_FederateRegionState::has_associatedobjectcount() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState::set_has_associatedobjectcount() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState::clear_has_associatedobjectcount() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState::clear_associatedobjectcount() {
+  associatedobjectcount_ = 0u;
+  clear_has_associatedobjectcount();
+}
+inline ::google::protobuf::uint32 FederateState_FederateRegionManagerState_FederateRegionState::associatedobjectcount() const {
+  return associatedobjectcount_;
+}
+inline void FederateState_FederateRegionManagerState_FederateRegionState::set_associatedobjectcount(::google::protobuf::uint32 value) {
+  set_has_associatedobjectcount();
+  associatedobjectcount_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederateState_FederateRegionManagerState
+
+// required uint32 nextRegionHandle = 1;
+inline bool FederateState_FederateRegionManagerState::has_nextregionhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateState_FederateRegionManagerState::set_has_nextregionhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateState_FederateRegionManagerState::clear_has_nextregionhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateState_FederateRegionManagerState::clear_nextregionhandle() {
+  nextregionhandle_ = 0u;
+  clear_has_nextregionhandle();
+}
+inline ::google::protobuf::uint32 FederateState_FederateRegionManagerState::nextregionhandle() const {
+  return nextregionhandle_;
+}
+inline void FederateState_FederateRegionManagerState::set_nextregionhandle(::google::protobuf::uint32 value) {
+  set_has_nextregionhandle();
+  nextregionhandle_ = value;
+}
+
+// required uint32 regionStateCount = 2;
+inline bool FederateState_FederateRegionManagerState::has_regionstatecount() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederateState_FederateRegionManagerState::set_has_regionstatecount() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederateState_FederateRegionManagerState::clear_has_regionstatecount() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederateState_FederateRegionManagerState::clear_regionstatecount() {
+  regionstatecount_ = 0u;
+  clear_has_regionstatecount();
+}
+inline ::google::protobuf::uint32 FederateState_FederateRegionManagerState::regionstatecount() const {
+  return regionstatecount_;
+}
+inline void FederateState_FederateRegionManagerState::set_regionstatecount(::google::protobuf::uint32 value) {
+  set_has_regionstatecount();
+  regionstatecount_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederateState_FederateMessageRetractionManagerState_MessageRetraction
+
+// required .ohla.rti.proto.MessageRetractionHandle messageRetractionHandle = 1;
+inline bool FederateState_FederateMessageRetractionManagerState_MessageRetraction::has_messageretractionhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateState_FederateMessageRetractionManagerState_MessageRetraction::set_has_messageretractionhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateState_FederateMessageRetractionManagerState_MessageRetraction::clear_has_messageretractionhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateState_FederateMessageRetractionManagerState_MessageRetraction::clear_messageretractionhandle() {
+  if (messageretractionhandle_ != NULL) messageretractionhandle_->::ohla::rti::proto::MessageRetractionHandle::Clear();
+  clear_has_messageretractionhandle();
+}
+inline const ::ohla::rti::proto::MessageRetractionHandle& FederateState_FederateMessageRetractionManagerState_MessageRetraction::messageretractionhandle() const {
+  return messageretractionhandle_ != NULL ? *messageretractionhandle_ : *default_instance_->messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* FederateState_FederateMessageRetractionManagerState_MessageRetraction::mutable_messageretractionhandle() {
+  set_has_messageretractionhandle();
+  if (messageretractionhandle_ == NULL) messageretractionhandle_ = new ::ohla::rti::proto::MessageRetractionHandle;
+  return messageretractionhandle_;
+}
+inline ::ohla::rti::proto::MessageRetractionHandle* FederateState_FederateMessageRetractionManagerState_MessageRetraction::release_messageretractionhandle() {
+  clear_has_messageretractionhandle();
+  ::ohla::rti::proto::MessageRetractionHandle* temp = messageretractionhandle_;
+  messageretractionhandle_ = NULL;
+  return temp;
+}
+inline void FederateState_FederateMessageRetractionManagerState_MessageRetraction::set_allocated_messageretractionhandle(::ohla::rti::proto::MessageRetractionHandle* messageretractionhandle) {
+  delete messageretractionhandle_;
+  messageretractionhandle_ = messageretractionhandle;
+  if (messageretractionhandle) {
+    set_has_messageretractionhandle();
+  } else {
+    clear_has_messageretractionhandle();
+  }
+}
+
+// required bytes expiration = 2;
+inline bool FederateState_FederateMessageRetractionManagerState_MessageRetraction::has_expiration() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederateState_FederateMessageRetractionManagerState_MessageRetraction::set_has_expiration() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederateState_FederateMessageRetractionManagerState_MessageRetraction::clear_has_expiration() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederateState_FederateMessageRetractionManagerState_MessageRetraction::clear_expiration() {
+  if (expiration_ != &::google::protobuf::internal::kEmptyString) {
+    expiration_->clear();
+  }
+  clear_has_expiration();
+}
+inline const ::std::string& FederateState_FederateMessageRetractionManagerState_MessageRetraction::expiration() const {
+  return *expiration_;
+}
+inline void FederateState_FederateMessageRetractionManagerState_MessageRetraction::set_expiration(const ::std::string& value) {
+  set_has_expiration();
+  if (expiration_ == &::google::protobuf::internal::kEmptyString) {
+    expiration_ = new ::std::string;
+  }
+  expiration_->assign(value);
+}
+inline void FederateState_FederateMessageRetractionManagerState_MessageRetraction::set_expiration(const char* value) {
+  set_has_expiration();
+  if (expiration_ == &::google::protobuf::internal::kEmptyString) {
+    expiration_ = new ::std::string;
+  }
+  expiration_->assign(value);
+}
+inline void FederateState_FederateMessageRetractionManagerState_MessageRetraction::set_expiration(const void* value, size_t size) {
+  set_has_expiration();
+  if (expiration_ == &::google::protobuf::internal::kEmptyString) {
+    expiration_ = new ::std::string;
+  }
+  expiration_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateState_FederateMessageRetractionManagerState_MessageRetraction::mutable_expiration() {
+  set_has_expiration();
+  if (expiration_ == &::google::protobuf::internal::kEmptyString) {
+    expiration_ = new ::std::string;
+  }
+  return expiration_;
+}
+inline ::std::string* FederateState_FederateMessageRetractionManagerState_MessageRetraction::release_expiration() {
+  clear_has_expiration();
+  if (expiration_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = expiration_;
+    expiration_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateState_FederateMessageRetractionManagerState_MessageRetraction::set_allocated_expiration(::std::string* expiration) {
+  if (expiration_ != &::google::protobuf::internal::kEmptyString) {
+    delete expiration_;
+  }
+  if (expiration) {
+    set_has_expiration();
+    expiration_ = expiration;
+  } else {
+    clear_has_expiration();
+    expiration_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// FederateState_FederateMessageRetractionManagerState
+
+// required uint64 nextMessageRetractionHandle = 1;
+inline bool FederateState_FederateMessageRetractionManagerState::has_nextmessageretractionhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateState_FederateMessageRetractionManagerState::set_has_nextmessageretractionhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateState_FederateMessageRetractionManagerState::clear_has_nextmessageretractionhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateState_FederateMessageRetractionManagerState::clear_nextmessageretractionhandle() {
+  nextmessageretractionhandle_ = GOOGLE_ULONGLONG(0);
+  clear_has_nextmessageretractionhandle();
+}
+inline ::google::protobuf::uint64 FederateState_FederateMessageRetractionManagerState::nextmessageretractionhandle() const {
+  return nextmessageretractionhandle_;
+}
+inline void FederateState_FederateMessageRetractionManagerState::set_nextmessageretractionhandle(::google::protobuf::uint64 value) {
+  set_has_nextmessageretractionhandle();
+  nextmessageretractionhandle_ = value;
+}
+
+// required uint32 messageRetractionCount = 2;
+inline bool FederateState_FederateMessageRetractionManagerState::has_messageretractioncount() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederateState_FederateMessageRetractionManagerState::set_has_messageretractioncount() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederateState_FederateMessageRetractionManagerState::clear_has_messageretractioncount() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederateState_FederateMessageRetractionManagerState::clear_messageretractioncount() {
+  messageretractioncount_ = 0u;
+  clear_has_messageretractioncount();
+}
+inline ::google::protobuf::uint32 FederateState_FederateMessageRetractionManagerState::messageretractioncount() const {
+  return messageretractioncount_;
+}
+inline void FederateState_FederateMessageRetractionManagerState::set_messageretractioncount(::google::protobuf::uint32 value) {
+  set_has_messageretractioncount();
+  messageretractioncount_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederateState_FederateTimeManagerState
+
+// required .ohla.rti.proto.FederateState.FederateTimeManagerState.TemporalState temporalState = 1;
+inline bool FederateState_FederateTimeManagerState::has_temporalstate() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateState_FederateTimeManagerState::set_has_temporalstate() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateState_FederateTimeManagerState::clear_has_temporalstate() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateState_FederateTimeManagerState::clear_temporalstate() {
+  temporalstate_ = 1;
+  clear_has_temporalstate();
+}
+inline ::ohla::rti::proto::FederateState_FederateTimeManagerState_TemporalState FederateState_FederateTimeManagerState::temporalstate() const {
+  return static_cast< ::ohla::rti::proto::FederateState_FederateTimeManagerState_TemporalState >(temporalstate_);
+}
+inline void FederateState_FederateTimeManagerState::set_temporalstate(::ohla::rti::proto::FederateState_FederateTimeManagerState_TemporalState value) {
+  assert(::ohla::rti::proto::FederateState_FederateTimeManagerState_TemporalState_IsValid(value));
+  set_has_temporalstate();
+  temporalstate_ = value;
+}
+
+// required .ohla.rti.proto.FederateState.FederateTimeManagerState.TimeRegulatingState timeRegulatingState = 2;
+inline bool FederateState_FederateTimeManagerState::has_timeregulatingstate() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederateState_FederateTimeManagerState::set_has_timeregulatingstate() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederateState_FederateTimeManagerState::clear_has_timeregulatingstate() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederateState_FederateTimeManagerState::clear_timeregulatingstate() {
+  timeregulatingstate_ = 1;
+  clear_has_timeregulatingstate();
+}
+inline ::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeRegulatingState FederateState_FederateTimeManagerState::timeregulatingstate() const {
+  return static_cast< ::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeRegulatingState >(timeregulatingstate_);
+}
+inline void FederateState_FederateTimeManagerState::set_timeregulatingstate(::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeRegulatingState value) {
+  assert(::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeRegulatingState_IsValid(value));
+  set_has_timeregulatingstate();
+  timeregulatingstate_ = value;
+}
+
+// required .ohla.rti.proto.FederateState.FederateTimeManagerState.TimeConstrainedState timeConstrainedState = 3;
+inline bool FederateState_FederateTimeManagerState::has_timeconstrainedstate() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FederateState_FederateTimeManagerState::set_has_timeconstrainedstate() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FederateState_FederateTimeManagerState::clear_has_timeconstrainedstate() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FederateState_FederateTimeManagerState::clear_timeconstrainedstate() {
+  timeconstrainedstate_ = 1;
+  clear_has_timeconstrainedstate();
+}
+inline ::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeConstrainedState FederateState_FederateTimeManagerState::timeconstrainedstate() const {
+  return static_cast< ::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeConstrainedState >(timeconstrainedstate_);
+}
+inline void FederateState_FederateTimeManagerState::set_timeconstrainedstate(::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeConstrainedState value) {
+  assert(::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeConstrainedState_IsValid(value));
+  set_has_timeconstrainedstate();
+  timeconstrainedstate_ = value;
+}
+
+// required bytes federateTime = 4;
+inline bool FederateState_FederateTimeManagerState::has_federatetime() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void FederateState_FederateTimeManagerState::set_has_federatetime() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void FederateState_FederateTimeManagerState::clear_has_federatetime() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void FederateState_FederateTimeManagerState::clear_federatetime() {
+  if (federatetime_ != &::google::protobuf::internal::kEmptyString) {
+    federatetime_->clear();
+  }
+  clear_has_federatetime();
+}
+inline const ::std::string& FederateState_FederateTimeManagerState::federatetime() const {
+  return *federatetime_;
+}
+inline void FederateState_FederateTimeManagerState::set_federatetime(const ::std::string& value) {
+  set_has_federatetime();
+  if (federatetime_ == &::google::protobuf::internal::kEmptyString) {
+    federatetime_ = new ::std::string;
+  }
+  federatetime_->assign(value);
+}
+inline void FederateState_FederateTimeManagerState::set_federatetime(const char* value) {
+  set_has_federatetime();
+  if (federatetime_ == &::google::protobuf::internal::kEmptyString) {
+    federatetime_ = new ::std::string;
+  }
+  federatetime_->assign(value);
+}
+inline void FederateState_FederateTimeManagerState::set_federatetime(const void* value, size_t size) {
+  set_has_federatetime();
+  if (federatetime_ == &::google::protobuf::internal::kEmptyString) {
+    federatetime_ = new ::std::string;
+  }
+  federatetime_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateState_FederateTimeManagerState::mutable_federatetime() {
+  set_has_federatetime();
+  if (federatetime_ == &::google::protobuf::internal::kEmptyString) {
+    federatetime_ = new ::std::string;
+  }
+  return federatetime_;
+}
+inline ::std::string* FederateState_FederateTimeManagerState::release_federatetime() {
+  clear_has_federatetime();
+  if (federatetime_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federatetime_;
+    federatetime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateState_FederateTimeManagerState::set_allocated_federatetime(::std::string* federatetime) {
+  if (federatetime_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatetime_;
+  }
+  if (federatetime) {
+    set_has_federatetime();
+    federatetime_ = federatetime;
+  } else {
+    clear_has_federatetime();
+    federatetime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional bytes lookahead = 5;
+inline bool FederateState_FederateTimeManagerState::has_lookahead() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void FederateState_FederateTimeManagerState::set_has_lookahead() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void FederateState_FederateTimeManagerState::clear_has_lookahead() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void FederateState_FederateTimeManagerState::clear_lookahead() {
+  if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+    lookahead_->clear();
+  }
+  clear_has_lookahead();
+}
+inline const ::std::string& FederateState_FederateTimeManagerState::lookahead() const {
+  return *lookahead_;
+}
+inline void FederateState_FederateTimeManagerState::set_lookahead(const ::std::string& value) {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  lookahead_->assign(value);
+}
+inline void FederateState_FederateTimeManagerState::set_lookahead(const char* value) {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  lookahead_->assign(value);
+}
+inline void FederateState_FederateTimeManagerState::set_lookahead(const void* value, size_t size) {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  lookahead_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateState_FederateTimeManagerState::mutable_lookahead() {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  return lookahead_;
+}
+inline ::std::string* FederateState_FederateTimeManagerState::release_lookahead() {
+  clear_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = lookahead_;
+    lookahead_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateState_FederateTimeManagerState::set_allocated_lookahead(::std::string* lookahead) {
+  if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+    delete lookahead_;
+  }
+  if (lookahead) {
+    set_has_lookahead();
+    lookahead_ = lookahead;
+  } else {
+    clear_has_lookahead();
+    lookahead_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional bytes lots = 6;
+inline bool FederateState_FederateTimeManagerState::has_lots() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void FederateState_FederateTimeManagerState::set_has_lots() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void FederateState_FederateTimeManagerState::clear_has_lots() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void FederateState_FederateTimeManagerState::clear_lots() {
+  if (lots_ != &::google::protobuf::internal::kEmptyString) {
+    lots_->clear();
+  }
+  clear_has_lots();
+}
+inline const ::std::string& FederateState_FederateTimeManagerState::lots() const {
+  return *lots_;
+}
+inline void FederateState_FederateTimeManagerState::set_lots(const ::std::string& value) {
+  set_has_lots();
+  if (lots_ == &::google::protobuf::internal::kEmptyString) {
+    lots_ = new ::std::string;
+  }
+  lots_->assign(value);
+}
+inline void FederateState_FederateTimeManagerState::set_lots(const char* value) {
+  set_has_lots();
+  if (lots_ == &::google::protobuf::internal::kEmptyString) {
+    lots_ = new ::std::string;
+  }
+  lots_->assign(value);
+}
+inline void FederateState_FederateTimeManagerState::set_lots(const void* value, size_t size) {
+  set_has_lots();
+  if (lots_ == &::google::protobuf::internal::kEmptyString) {
+    lots_ = new ::std::string;
+  }
+  lots_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateState_FederateTimeManagerState::mutable_lots() {
+  set_has_lots();
+  if (lots_ == &::google::protobuf::internal::kEmptyString) {
+    lots_ = new ::std::string;
+  }
+  return lots_;
+}
+inline ::std::string* FederateState_FederateTimeManagerState::release_lots() {
+  clear_has_lots();
+  if (lots_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = lots_;
+    lots_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateState_FederateTimeManagerState::set_allocated_lots(::std::string* lots) {
+  if (lots_ != &::google::protobuf::internal::kEmptyString) {
+    delete lots_;
+  }
+  if (lots) {
+    set_has_lots();
+    lots_ = lots;
+  } else {
+    clear_has_lots();
+    lots_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required .ohla.rti.proto.AdvanceRequestType advanceRequestType = 7;
+inline bool FederateState_FederateTimeManagerState::has_advancerequesttype() const {
+  return (_has_bits_[0] & 0x00000040u) != 0;
+}
+inline void FederateState_FederateTimeManagerState::set_has_advancerequesttype() {
+  _has_bits_[0] |= 0x00000040u;
+}
+inline void FederateState_FederateTimeManagerState::clear_has_advancerequesttype() {
+  _has_bits_[0] &= ~0x00000040u;
+}
+inline void FederateState_FederateTimeManagerState::clear_advancerequesttype() {
+  advancerequesttype_ = 1;
+  clear_has_advancerequesttype();
+}
+inline ::ohla::rti::proto::AdvanceRequestType FederateState_FederateTimeManagerState::advancerequesttype() const {
+  return static_cast< ::ohla::rti::proto::AdvanceRequestType >(advancerequesttype_);
+}
+inline void FederateState_FederateTimeManagerState::set_advancerequesttype(::ohla::rti::proto::AdvanceRequestType value) {
+  assert(::ohla::rti::proto::AdvanceRequestType_IsValid(value));
+  set_has_advancerequesttype();
+  advancerequesttype_ = value;
+}
+
+// optional bytes advanceRequestTime = 8;
+inline bool FederateState_FederateTimeManagerState::has_advancerequesttime() const {
+  return (_has_bits_[0] & 0x00000080u) != 0;
+}
+inline void FederateState_FederateTimeManagerState::set_has_advancerequesttime() {
+  _has_bits_[0] |= 0x00000080u;
+}
+inline void FederateState_FederateTimeManagerState::clear_has_advancerequesttime() {
+  _has_bits_[0] &= ~0x00000080u;
+}
+inline void FederateState_FederateTimeManagerState::clear_advancerequesttime() {
+  if (advancerequesttime_ != &::google::protobuf::internal::kEmptyString) {
+    advancerequesttime_->clear();
+  }
+  clear_has_advancerequesttime();
+}
+inline const ::std::string& FederateState_FederateTimeManagerState::advancerequesttime() const {
+  return *advancerequesttime_;
+}
+inline void FederateState_FederateTimeManagerState::set_advancerequesttime(const ::std::string& value) {
+  set_has_advancerequesttime();
+  if (advancerequesttime_ == &::google::protobuf::internal::kEmptyString) {
+    advancerequesttime_ = new ::std::string;
+  }
+  advancerequesttime_->assign(value);
+}
+inline void FederateState_FederateTimeManagerState::set_advancerequesttime(const char* value) {
+  set_has_advancerequesttime();
+  if (advancerequesttime_ == &::google::protobuf::internal::kEmptyString) {
+    advancerequesttime_ = new ::std::string;
+  }
+  advancerequesttime_->assign(value);
+}
+inline void FederateState_FederateTimeManagerState::set_advancerequesttime(const void* value, size_t size) {
+  set_has_advancerequesttime();
+  if (advancerequesttime_ == &::google::protobuf::internal::kEmptyString) {
+    advancerequesttime_ = new ::std::string;
+  }
+  advancerequesttime_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateState_FederateTimeManagerState::mutable_advancerequesttime() {
+  set_has_advancerequesttime();
+  if (advancerequesttime_ == &::google::protobuf::internal::kEmptyString) {
+    advancerequesttime_ = new ::std::string;
+  }
+  return advancerequesttime_;
+}
+inline ::std::string* FederateState_FederateTimeManagerState::release_advancerequesttime() {
+  clear_has_advancerequesttime();
+  if (advancerequesttime_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = advancerequesttime_;
+    advancerequesttime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateState_FederateTimeManagerState::set_allocated_advancerequesttime(::std::string* advancerequesttime) {
+  if (advancerequesttime_ != &::google::protobuf::internal::kEmptyString) {
+    delete advancerequesttime_;
+  }
+  if (advancerequesttime) {
+    set_has_advancerequesttime();
+    advancerequesttime_ = advancerequesttime;
+  } else {
+    clear_has_advancerequesttime();
+    advancerequesttime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// FederateState
+
+// required uint32 synchonizationPointStateCount = 1;
+inline bool FederateState::has_synchonizationpointstatecount() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateState::set_has_synchonizationpointstatecount() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateState::clear_has_synchonizationpointstatecount() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateState::clear_synchonizationpointstatecount() {
+  synchonizationpointstatecount_ = 0u;
+  clear_has_synchonizationpointstatecount();
+}
+inline ::google::protobuf::uint32 FederateState::synchonizationpointstatecount() const {
+  return synchonizationpointstatecount_;
+}
+inline void FederateState::set_synchonizationpointstatecount(::google::protobuf::uint32 value) {
+  set_has_synchonizationpointstatecount();
+  synchonizationpointstatecount_ = value;
+}
+
+// required bool hasHLA13RTIAmbassadorState = 2;
+inline bool FederateState::has_hashla13rtiambassadorstate() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederateState::set_has_hashla13rtiambassadorstate() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederateState::clear_has_hashla13rtiambassadorstate() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederateState::clear_hashla13rtiambassadorstate() {
+  hashla13rtiambassadorstate_ = false;
+  clear_has_hashla13rtiambassadorstate();
+}
+inline bool FederateState::hashla13rtiambassadorstate() const {
+  return hashla13rtiambassadorstate_;
+}
+inline void FederateState::set_hashla13rtiambassadorstate(bool value) {
+  set_has_hashla13rtiambassadorstate();
+  hashla13rtiambassadorstate_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// TimeStampOrderedMessageQueueState_TimeStampOrderedMessage
+
+// required uint32 producingFederateHandle = 1;
+inline bool TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::has_producingfederatehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::set_has_producingfederatehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::clear_has_producingfederatehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::clear_producingfederatehandle() {
+  producingfederatehandle_ = 0u;
+  clear_has_producingfederatehandle();
+}
+inline ::google::protobuf::uint32 TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::producingfederatehandle() const {
+  return producingfederatehandle_;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::set_producingfederatehandle(::google::protobuf::uint32 value) {
+  set_has_producingfederatehandle();
+  producingfederatehandle_ = value;
+}
+
+// optional .ohla.rti.messages.proto.SendInteraction sendInteraction = 2;
+inline bool TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::has_sendinteraction() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::set_has_sendinteraction() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::clear_has_sendinteraction() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::clear_sendinteraction() {
+  if (sendinteraction_ != NULL) sendinteraction_->::ohla::rti::messages::proto::SendInteraction::Clear();
+  clear_has_sendinteraction();
+}
+inline const ::ohla::rti::messages::proto::SendInteraction& TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::sendinteraction() const {
+  return sendinteraction_ != NULL ? *sendinteraction_ : *default_instance_->sendinteraction_;
+}
+inline ::ohla::rti::messages::proto::SendInteraction* TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::mutable_sendinteraction() {
+  set_has_sendinteraction();
+  if (sendinteraction_ == NULL) sendinteraction_ = new ::ohla::rti::messages::proto::SendInteraction;
+  return sendinteraction_;
+}
+inline ::ohla::rti::messages::proto::SendInteraction* TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::release_sendinteraction() {
+  clear_has_sendinteraction();
+  ::ohla::rti::messages::proto::SendInteraction* temp = sendinteraction_;
+  sendinteraction_ = NULL;
+  return temp;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::set_allocated_sendinteraction(::ohla::rti::messages::proto::SendInteraction* sendinteraction) {
+  delete sendinteraction_;
+  sendinteraction_ = sendinteraction;
+  if (sendinteraction) {
+    set_has_sendinteraction();
+  } else {
+    clear_has_sendinteraction();
+  }
+}
+
+// optional .ohla.rti.messages.proto.UpdateAttributeValues updateAttributeValues = 3;
+inline bool TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::has_updateattributevalues() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::set_has_updateattributevalues() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::clear_has_updateattributevalues() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::clear_updateattributevalues() {
+  if (updateattributevalues_ != NULL) updateattributevalues_->::ohla::rti::messages::proto::UpdateAttributeValues::Clear();
+  clear_has_updateattributevalues();
+}
+inline const ::ohla::rti::messages::proto::UpdateAttributeValues& TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::updateattributevalues() const {
+  return updateattributevalues_ != NULL ? *updateattributevalues_ : *default_instance_->updateattributevalues_;
+}
+inline ::ohla::rti::messages::proto::UpdateAttributeValues* TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::mutable_updateattributevalues() {
+  set_has_updateattributevalues();
+  if (updateattributevalues_ == NULL) updateattributevalues_ = new ::ohla::rti::messages::proto::UpdateAttributeValues;
+  return updateattributevalues_;
+}
+inline ::ohla::rti::messages::proto::UpdateAttributeValues* TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::release_updateattributevalues() {
+  clear_has_updateattributevalues();
+  ::ohla::rti::messages::proto::UpdateAttributeValues* temp = updateattributevalues_;
+  updateattributevalues_ = NULL;
+  return temp;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::set_allocated_updateattributevalues(::ohla::rti::messages::proto::UpdateAttributeValues* updateattributevalues) {
+  delete updateattributevalues_;
+  updateattributevalues_ = updateattributevalues;
+  if (updateattributevalues) {
+    set_has_updateattributevalues();
+  } else {
+    clear_has_updateattributevalues();
+  }
+}
+
+// optional .ohla.rti.messages.proto.DeleteObjectInstance deleteObjectInstance = 4;
+inline bool TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::has_deleteobjectinstance() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::set_has_deleteobjectinstance() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::clear_has_deleteobjectinstance() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::clear_deleteobjectinstance() {
+  if (deleteobjectinstance_ != NULL) deleteobjectinstance_->::ohla::rti::messages::proto::DeleteObjectInstance::Clear();
+  clear_has_deleteobjectinstance();
+}
+inline const ::ohla::rti::messages::proto::DeleteObjectInstance& TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::deleteobjectinstance() const {
+  return deleteobjectinstance_ != NULL ? *deleteobjectinstance_ : *default_instance_->deleteobjectinstance_;
+}
+inline ::ohla::rti::messages::proto::DeleteObjectInstance* TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::mutable_deleteobjectinstance() {
+  set_has_deleteobjectinstance();
+  if (deleteobjectinstance_ == NULL) deleteobjectinstance_ = new ::ohla::rti::messages::proto::DeleteObjectInstance;
+  return deleteobjectinstance_;
+}
+inline ::ohla::rti::messages::proto::DeleteObjectInstance* TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::release_deleteobjectinstance() {
+  clear_has_deleteobjectinstance();
+  ::ohla::rti::messages::proto::DeleteObjectInstance* temp = deleteobjectinstance_;
+  deleteobjectinstance_ = NULL;
+  return temp;
+}
+inline void TimeStampOrderedMessageQueueState_TimeStampOrderedMessage::set_allocated_deleteobjectinstance(::ohla::rti::messages::proto::DeleteObjectInstance* deleteobjectinstance) {
+  delete deleteobjectinstance_;
+  deleteobjectinstance_ = deleteobjectinstance;
+  if (deleteobjectinstance) {
+    set_has_deleteobjectinstance();
+  } else {
+    clear_has_deleteobjectinstance();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// TimeStampOrderedMessageQueueState
+
+// required uint32 queuedTimeStampOrderedMessageCount = 1;
+inline bool TimeStampOrderedMessageQueueState::has_queuedtimestamporderedmessagecount() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void TimeStampOrderedMessageQueueState::set_has_queuedtimestamporderedmessagecount() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void TimeStampOrderedMessageQueueState::clear_has_queuedtimestamporderedmessagecount() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void TimeStampOrderedMessageQueueState::clear_queuedtimestamporderedmessagecount() {
+  queuedtimestamporderedmessagecount_ = 0u;
+  clear_has_queuedtimestamporderedmessagecount();
+}
+inline ::google::protobuf::uint32 TimeStampOrderedMessageQueueState::queuedtimestamporderedmessagecount() const {
+  return queuedtimestamporderedmessagecount_;
+}
+inline void TimeStampOrderedMessageQueueState::set_queuedtimestamporderedmessagecount(::google::protobuf::uint32 value) {
+  set_has_queuedtimestamporderedmessagecount();
+  queuedtimestamporderedmessagecount_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederateProxyState
+
+// repeated .ohla.rti.proto.PublishedObjectClass publishedObjectClasses = 1;
+inline int FederateProxyState::publishedobjectclasses_size() const {
+  return publishedobjectclasses_.size();
+}
+inline void FederateProxyState::clear_publishedobjectclasses() {
+  publishedobjectclasses_.Clear();
+}
+inline const ::ohla::rti::proto::PublishedObjectClass& FederateProxyState::publishedobjectclasses(int index) const {
+  return publishedobjectclasses_.Get(index);
+}
+inline ::ohla::rti::proto::PublishedObjectClass* FederateProxyState::mutable_publishedobjectclasses(int index) {
+  return publishedobjectclasses_.Mutable(index);
+}
+inline ::ohla::rti::proto::PublishedObjectClass* FederateProxyState::add_publishedobjectclasses() {
+  return publishedobjectclasses_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::PublishedObjectClass >&
+FederateProxyState::publishedobjectclasses() const {
+  return publishedobjectclasses_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::PublishedObjectClass >*
+FederateProxyState::mutable_publishedobjectclasses() {
+  return &publishedobjectclasses_;
+}
+
+// repeated uint32 publishedInteractionClasses = 2;
+inline int FederateProxyState::publishedinteractionclasses_size() const {
+  return publishedinteractionclasses_.size();
+}
+inline void FederateProxyState::clear_publishedinteractionclasses() {
+  publishedinteractionclasses_.Clear();
+}
+inline ::google::protobuf::uint32 FederateProxyState::publishedinteractionclasses(int index) const {
+  return publishedinteractionclasses_.Get(index);
+}
+inline void FederateProxyState::set_publishedinteractionclasses(int index, ::google::protobuf::uint32 value) {
+  publishedinteractionclasses_.Set(index, value);
+}
+inline void FederateProxyState::add_publishedinteractionclasses(::google::protobuf::uint32 value) {
+  publishedinteractionclasses_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FederateProxyState::publishedinteractionclasses() const {
+  return publishedinteractionclasses_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FederateProxyState::mutable_publishedinteractionclasses() {
+  return &publishedinteractionclasses_;
+}
+
+// required bool timeRegulationEnabled = 3;
+inline bool FederateProxyState::has_timeregulationenabled() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FederateProxyState::set_has_timeregulationenabled() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FederateProxyState::clear_has_timeregulationenabled() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FederateProxyState::clear_timeregulationenabled() {
+  timeregulationenabled_ = false;
+  clear_has_timeregulationenabled();
+}
+inline bool FederateProxyState::timeregulationenabled() const {
+  return timeregulationenabled_;
+}
+inline void FederateProxyState::set_timeregulationenabled(bool value) {
+  set_has_timeregulationenabled();
+  timeregulationenabled_ = value;
+}
+
+// optional bytes lookahead = 4;
+inline bool FederateProxyState::has_lookahead() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void FederateProxyState::set_has_lookahead() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void FederateProxyState::clear_has_lookahead() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void FederateProxyState::clear_lookahead() {
+  if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+    lookahead_->clear();
+  }
+  clear_has_lookahead();
+}
+inline const ::std::string& FederateProxyState::lookahead() const {
+  return *lookahead_;
+}
+inline void FederateProxyState::set_lookahead(const ::std::string& value) {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  lookahead_->assign(value);
+}
+inline void FederateProxyState::set_lookahead(const char* value) {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  lookahead_->assign(value);
+}
+inline void FederateProxyState::set_lookahead(const void* value, size_t size) {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  lookahead_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateProxyState::mutable_lookahead() {
+  set_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    lookahead_ = new ::std::string;
+  }
+  return lookahead_;
+}
+inline ::std::string* FederateProxyState::release_lookahead() {
+  clear_has_lookahead();
+  if (lookahead_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = lookahead_;
+    lookahead_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateProxyState::set_allocated_lookahead(::std::string* lookahead) {
+  if (lookahead_ != &::google::protobuf::internal::kEmptyString) {
+    delete lookahead_;
+  }
+  if (lookahead) {
+    set_has_lookahead();
+    lookahead_ = lookahead;
+  } else {
+    clear_has_lookahead();
+    lookahead_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required bool timeConstrainedEnabled = 5;
+inline bool FederateProxyState::has_timeconstrainedenabled() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void FederateProxyState::set_has_timeconstrainedenabled() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void FederateProxyState::clear_has_timeconstrainedenabled() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void FederateProxyState::clear_timeconstrainedenabled() {
+  timeconstrainedenabled_ = false;
+  clear_has_timeconstrainedenabled();
+}
+inline bool FederateProxyState::timeconstrainedenabled() const {
+  return timeconstrainedenabled_;
+}
+inline void FederateProxyState::set_timeconstrainedenabled(bool value) {
+  set_has_timeconstrainedenabled();
+  timeconstrainedenabled_ = value;
+}
+
+// required bool timeConstrainedPending = 6;
+inline bool FederateProxyState::has_timeconstrainedpending() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void FederateProxyState::set_has_timeconstrainedpending() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void FederateProxyState::clear_has_timeconstrainedpending() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void FederateProxyState::clear_timeconstrainedpending() {
+  timeconstrainedpending_ = false;
+  clear_has_timeconstrainedpending();
+}
+inline bool FederateProxyState::timeconstrainedpending() const {
+  return timeconstrainedpending_;
+}
+inline void FederateProxyState::set_timeconstrainedpending(bool value) {
+  set_has_timeconstrainedpending();
+  timeconstrainedpending_ = value;
+}
+
+// required .ohla.rti.proto.AdvanceRequestType advanceRequestType = 7;
+inline bool FederateProxyState::has_advancerequesttype() const {
+  return (_has_bits_[0] & 0x00000040u) != 0;
+}
+inline void FederateProxyState::set_has_advancerequesttype() {
+  _has_bits_[0] |= 0x00000040u;
+}
+inline void FederateProxyState::clear_has_advancerequesttype() {
+  _has_bits_[0] &= ~0x00000040u;
+}
+inline void FederateProxyState::clear_advancerequesttype() {
+  advancerequesttype_ = 1;
+  clear_has_advancerequesttype();
+}
+inline ::ohla::rti::proto::AdvanceRequestType FederateProxyState::advancerequesttype() const {
+  return static_cast< ::ohla::rti::proto::AdvanceRequestType >(advancerequesttype_);
+}
+inline void FederateProxyState::set_advancerequesttype(::ohla::rti::proto::AdvanceRequestType value) {
+  assert(::ohla::rti::proto::AdvanceRequestType_IsValid(value));
+  set_has_advancerequesttype();
+  advancerequesttype_ = value;
+}
+
+// optional bytes advanceRequestTime = 8;
+inline bool FederateProxyState::has_advancerequesttime() const {
+  return (_has_bits_[0] & 0x00000080u) != 0;
+}
+inline void FederateProxyState::set_has_advancerequesttime() {
+  _has_bits_[0] |= 0x00000080u;
+}
+inline void FederateProxyState::clear_has_advancerequesttime() {
+  _has_bits_[0] &= ~0x00000080u;
+}
+inline void FederateProxyState::clear_advancerequesttime() {
+  if (advancerequesttime_ != &::google::protobuf::internal::kEmptyString) {
+    advancerequesttime_->clear();
+  }
+  clear_has_advancerequesttime();
+}
+inline const ::std::string& FederateProxyState::advancerequesttime() const {
+  return *advancerequesttime_;
+}
+inline void FederateProxyState::set_advancerequesttime(const ::std::string& value) {
+  set_has_advancerequesttime();
+  if (advancerequesttime_ == &::google::protobuf::internal::kEmptyString) {
+    advancerequesttime_ = new ::std::string;
+  }
+  advancerequesttime_->assign(value);
+}
+inline void FederateProxyState::set_advancerequesttime(const char* value) {
+  set_has_advancerequesttime();
+  if (advancerequesttime_ == &::google::protobuf::internal::kEmptyString) {
+    advancerequesttime_ = new ::std::string;
+  }
+  advancerequesttime_->assign(value);
+}
+inline void FederateProxyState::set_advancerequesttime(const void* value, size_t size) {
+  set_has_advancerequesttime();
+  if (advancerequesttime_ == &::google::protobuf::internal::kEmptyString) {
+    advancerequesttime_ = new ::std::string;
+  }
+  advancerequesttime_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateProxyState::mutable_advancerequesttime() {
+  set_has_advancerequesttime();
+  if (advancerequesttime_ == &::google::protobuf::internal::kEmptyString) {
+    advancerequesttime_ = new ::std::string;
+  }
+  return advancerequesttime_;
+}
+inline ::std::string* FederateProxyState::release_advancerequesttime() {
+  clear_has_advancerequesttime();
+  if (advancerequesttime_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = advancerequesttime_;
+    advancerequesttime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateProxyState::set_allocated_advancerequesttime(::std::string* advancerequesttime) {
+  if (advancerequesttime_ != &::google::protobuf::internal::kEmptyString) {
+    delete advancerequesttime_;
+  }
+  if (advancerequesttime) {
+    set_has_advancerequesttime();
+    advancerequesttime_ = advancerequesttime;
+  } else {
+    clear_has_advancerequesttime();
+    advancerequesttime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required bytes federateTime = 9;
+inline bool FederateProxyState::has_federatetime() const {
+  return (_has_bits_[0] & 0x00000100u) != 0;
+}
+inline void FederateProxyState::set_has_federatetime() {
+  _has_bits_[0] |= 0x00000100u;
+}
+inline void FederateProxyState::clear_has_federatetime() {
+  _has_bits_[0] &= ~0x00000100u;
+}
+inline void FederateProxyState::clear_federatetime() {
+  if (federatetime_ != &::google::protobuf::internal::kEmptyString) {
+    federatetime_->clear();
+  }
+  clear_has_federatetime();
+}
+inline const ::std::string& FederateProxyState::federatetime() const {
+  return *federatetime_;
+}
+inline void FederateProxyState::set_federatetime(const ::std::string& value) {
+  set_has_federatetime();
+  if (federatetime_ == &::google::protobuf::internal::kEmptyString) {
+    federatetime_ = new ::std::string;
+  }
+  federatetime_->assign(value);
+}
+inline void FederateProxyState::set_federatetime(const char* value) {
+  set_has_federatetime();
+  if (federatetime_ == &::google::protobuf::internal::kEmptyString) {
+    federatetime_ = new ::std::string;
+  }
+  federatetime_->assign(value);
+}
+inline void FederateProxyState::set_federatetime(const void* value, size_t size) {
+  set_has_federatetime();
+  if (federatetime_ == &::google::protobuf::internal::kEmptyString) {
+    federatetime_ = new ::std::string;
+  }
+  federatetime_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateProxyState::mutable_federatetime() {
+  set_has_federatetime();
+  if (federatetime_ == &::google::protobuf::internal::kEmptyString) {
+    federatetime_ = new ::std::string;
+  }
+  return federatetime_;
+}
+inline ::std::string* FederateProxyState::release_federatetime() {
+  clear_has_federatetime();
+  if (federatetime_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federatetime_;
+    federatetime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateProxyState::set_allocated_federatetime(::std::string* federatetime) {
+  if (federatetime_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatetime_;
+  }
+  if (federatetime) {
+    set_has_federatetime();
+    federatetime_ = federatetime;
+  } else {
+    clear_has_federatetime();
+    federatetime_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional bytes galt = 10;
+inline bool FederateProxyState::has_galt() const {
+  return (_has_bits_[0] & 0x00000200u) != 0;
+}
+inline void FederateProxyState::set_has_galt() {
+  _has_bits_[0] |= 0x00000200u;
+}
+inline void FederateProxyState::clear_has_galt() {
+  _has_bits_[0] &= ~0x00000200u;
+}
+inline void FederateProxyState::clear_galt() {
+  if (galt_ != &::google::protobuf::internal::kEmptyString) {
+    galt_->clear();
+  }
+  clear_has_galt();
+}
+inline const ::std::string& FederateProxyState::galt() const {
+  return *galt_;
+}
+inline void FederateProxyState::set_galt(const ::std::string& value) {
+  set_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    galt_ = new ::std::string;
+  }
+  galt_->assign(value);
+}
+inline void FederateProxyState::set_galt(const char* value) {
+  set_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    galt_ = new ::std::string;
+  }
+  galt_->assign(value);
+}
+inline void FederateProxyState::set_galt(const void* value, size_t size) {
+  set_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    galt_ = new ::std::string;
+  }
+  galt_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateProxyState::mutable_galt() {
+  set_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    galt_ = new ::std::string;
+  }
+  return galt_;
+}
+inline ::std::string* FederateProxyState::release_galt() {
+  clear_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = galt_;
+    galt_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateProxyState::set_allocated_galt(::std::string* galt) {
+  if (galt_ != &::google::protobuf::internal::kEmptyString) {
+    delete galt_;
+  }
+  if (galt) {
+    set_has_galt();
+    galt_ = galt;
+  } else {
+    clear_has_galt();
+    galt_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional bytes lots = 11;
+inline bool FederateProxyState::has_lots() const {
+  return (_has_bits_[0] & 0x00000400u) != 0;
+}
+inline void FederateProxyState::set_has_lots() {
+  _has_bits_[0] |= 0x00000400u;
+}
+inline void FederateProxyState::clear_has_lots() {
+  _has_bits_[0] &= ~0x00000400u;
+}
+inline void FederateProxyState::clear_lots() {
+  if (lots_ != &::google::protobuf::internal::kEmptyString) {
+    lots_->clear();
+  }
+  clear_has_lots();
+}
+inline const ::std::string& FederateProxyState::lots() const {
+  return *lots_;
+}
+inline void FederateProxyState::set_lots(const ::std::string& value) {
+  set_has_lots();
+  if (lots_ == &::google::protobuf::internal::kEmptyString) {
+    lots_ = new ::std::string;
+  }
+  lots_->assign(value);
+}
+inline void FederateProxyState::set_lots(const char* value) {
+  set_has_lots();
+  if (lots_ == &::google::protobuf::internal::kEmptyString) {
+    lots_ = new ::std::string;
+  }
+  lots_->assign(value);
+}
+inline void FederateProxyState::set_lots(const void* value, size_t size) {
+  set_has_lots();
+  if (lots_ == &::google::protobuf::internal::kEmptyString) {
+    lots_ = new ::std::string;
+  }
+  lots_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateProxyState::mutable_lots() {
+  set_has_lots();
+  if (lots_ == &::google::protobuf::internal::kEmptyString) {
+    lots_ = new ::std::string;
+  }
+  return lots_;
+}
+inline ::std::string* FederateProxyState::release_lots() {
+  clear_has_lots();
+  if (lots_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = lots_;
+    lots_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateProxyState::set_allocated_lots(::std::string* lots) {
+  if (lots_ != &::google::protobuf::internal::kEmptyString) {
+    delete lots_;
+  }
+  if (lots) {
+    set_has_lots();
+    lots_ = lots;
+  } else {
+    clear_has_lots();
+    lots_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required uint32 discoveredObjectInstanceHandleCount = 12;
+inline bool FederateProxyState::has_discoveredobjectinstancehandlecount() const {
+  return (_has_bits_[0] & 0x00000800u) != 0;
+}
+inline void FederateProxyState::set_has_discoveredobjectinstancehandlecount() {
+  _has_bits_[0] |= 0x00000800u;
+}
+inline void FederateProxyState::clear_has_discoveredobjectinstancehandlecount() {
+  _has_bits_[0] &= ~0x00000800u;
+}
+inline void FederateProxyState::clear_discoveredobjectinstancehandlecount() {
+  discoveredobjectinstancehandlecount_ = 0u;
+  clear_has_discoveredobjectinstancehandlecount();
+}
+inline ::google::protobuf::uint32 FederateProxyState::discoveredobjectinstancehandlecount() const {
+  return discoveredobjectinstancehandlecount_;
+}
+inline void FederateProxyState::set_discoveredobjectinstancehandlecount(::google::protobuf::uint32 value) {
+  set_has_discoveredobjectinstancehandlecount();
+  discoveredobjectinstancehandlecount_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederationExecutionState_FederationExecutionSynchonizationPointState
+
+// required string label = 1;
+inline bool FederationExecutionState_FederationExecutionSynchonizationPointState::has_label() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_has_label() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::clear_has_label() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::clear_label() {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    label_->clear();
+  }
+  clear_has_label();
+}
+inline const ::std::string& FederationExecutionState_FederationExecutionSynchonizationPointState::label() const {
+  return *label_;
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_label(const ::std::string& value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_label(const char* value) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(value);
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_label(const char* value, size_t size) {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  label_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederationExecutionState_FederationExecutionSynchonizationPointState::mutable_label() {
+  set_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    label_ = new ::std::string;
+  }
+  return label_;
+}
+inline ::std::string* FederationExecutionState_FederationExecutionSynchonizationPointState::release_label() {
+  clear_has_label();
+  if (label_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = label_;
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_allocated_label(::std::string* label) {
+  if (label_ != &::google::protobuf::internal::kEmptyString) {
+    delete label_;
+  }
+  if (label) {
+    set_has_label();
+    label_ = label;
+  } else {
+    clear_has_label();
+    label_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional bytes tag = 2;
+inline bool FederationExecutionState_FederationExecutionSynchonizationPointState::has_tag() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_has_tag() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::clear_has_tag() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::clear_tag() {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    tag_->clear();
+  }
+  clear_has_tag();
+}
+inline const ::std::string& FederationExecutionState_FederationExecutionSynchonizationPointState::tag() const {
+  return *tag_;
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_tag(const ::std::string& value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_tag(const char* value) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(value);
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_tag(const void* value, size_t size) {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  tag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederationExecutionState_FederationExecutionSynchonizationPointState::mutable_tag() {
+  set_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    tag_ = new ::std::string;
+  }
+  return tag_;
+}
+inline ::std::string* FederationExecutionState_FederationExecutionSynchonizationPointState::release_tag() {
+  clear_has_tag();
+  if (tag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = tag_;
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_allocated_tag(::std::string* tag) {
+  if (tag_ != &::google::protobuf::internal::kEmptyString) {
+    delete tag_;
+  }
+  if (tag) {
+    set_has_tag();
+    tag_ = tag;
+  } else {
+    clear_has_tag();
+    tag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// repeated uint32 federateHandles = 3;
+inline int FederationExecutionState_FederationExecutionSynchonizationPointState::federatehandles_size() const {
+  return federatehandles_.size();
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::clear_federatehandles() {
+  federatehandles_.Clear();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionSynchonizationPointState::federatehandles(int index) const {
+  return federatehandles_.Get(index);
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_federatehandles(int index, ::google::protobuf::uint32 value) {
+  federatehandles_.Set(index, value);
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::add_federatehandles(::google::protobuf::uint32 value) {
+  federatehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FederationExecutionState_FederationExecutionSynchonizationPointState::federatehandles() const {
+  return federatehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FederationExecutionState_FederationExecutionSynchonizationPointState::mutable_federatehandles() {
+  return &federatehandles_;
+}
+
+// required bool exclusive = 4;
+inline bool FederationExecutionState_FederationExecutionSynchonizationPointState::has_exclusive() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_has_exclusive() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::clear_has_exclusive() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::clear_exclusive() {
+  exclusive_ = false;
+  clear_has_exclusive();
+}
+inline bool FederationExecutionState_FederationExecutionSynchonizationPointState::exclusive() const {
+  return exclusive_;
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_exclusive(bool value) {
+  set_has_exclusive();
+  exclusive_ = value;
+}
+
+// repeated uint32 awaitingSynchronization = 5;
+inline int FederationExecutionState_FederationExecutionSynchonizationPointState::awaitingsynchronization_size() const {
+  return awaitingsynchronization_.size();
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::clear_awaitingsynchronization() {
+  awaitingsynchronization_.Clear();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionSynchonizationPointState::awaitingsynchronization(int index) const {
+  return awaitingsynchronization_.Get(index);
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_awaitingsynchronization(int index, ::google::protobuf::uint32 value) {
+  awaitingsynchronization_.Set(index, value);
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::add_awaitingsynchronization(::google::protobuf::uint32 value) {
+  awaitingsynchronization_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FederationExecutionState_FederationExecutionSynchonizationPointState::awaitingsynchronization() const {
+  return awaitingsynchronization_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FederationExecutionState_FederationExecutionSynchonizationPointState::mutable_awaitingsynchronization() {
+  return &awaitingsynchronization_;
+}
+
+// repeated uint32 failedToSynchronize = 6;
+inline int FederationExecutionState_FederationExecutionSynchonizationPointState::failedtosynchronize_size() const {
+  return failedtosynchronize_.size();
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::clear_failedtosynchronize() {
+  failedtosynchronize_.Clear();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionSynchonizationPointState::failedtosynchronize(int index) const {
+  return failedtosynchronize_.Get(index);
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::set_failedtosynchronize(int index, ::google::protobuf::uint32 value) {
+  failedtosynchronize_.Set(index, value);
+}
+inline void FederationExecutionState_FederationExecutionSynchonizationPointState::add_failedtosynchronize(::google::protobuf::uint32 value) {
+  failedtosynchronize_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FederationExecutionState_FederationExecutionSynchonizationPointState::failedtosynchronize() const {
+  return failedtosynchronize_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FederationExecutionState_FederationExecutionSynchonizationPointState::mutable_failedtosynchronize() {
+  return &failedtosynchronize_;
+}
+
+// -------------------------------------------------------------------
+
+// FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName
+
+// required string objectInstanceName = 1;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::has_objectinstancename() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::set_has_objectinstancename() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::clear_has_objectinstancename() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::clear_objectinstancename() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_->clear();
+  }
+  clear_has_objectinstancename();
+}
+inline const ::std::string& FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::objectinstancename() const {
+  return *objectinstancename_;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::set_objectinstancename(const ::std::string& value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::set_objectinstancename(const char* value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::set_objectinstancename(const char* value, size_t size) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::mutable_objectinstancename() {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  return objectinstancename_;
+}
+inline ::std::string* FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::release_objectinstancename() {
+  clear_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = objectinstancename_;
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::set_allocated_objectinstancename(::std::string* objectinstancename) {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (objectinstancename) {
+    set_has_objectinstancename();
+    objectinstancename_ = objectinstancename;
+  } else {
+    clear_has_objectinstancename();
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required uint32 federateHandle = 2;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::has_federatehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::set_has_federatehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::clear_has_federatehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::clear_federatehandle() {
+  federatehandle_ = 0u;
+  clear_has_federatehandle();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::federatehandle() const {
+  return federatehandle_;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_ReservedObjectInstanceName::set_federatehandle(::google::protobuf::uint32 value) {
+  set_has_federatehandle();
+  federatehandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation
+
+// required uint32 federateHandle = 1;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::has_federatehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::set_has_federatehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::clear_has_federatehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::clear_federatehandle() {
+  federatehandle_ = 0u;
+  clear_has_federatehandle();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::federatehandle() const {
+  return federatehandle_;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::set_federatehandle(::google::protobuf::uint32 value) {
+  set_has_federatehandle();
+  federatehandle_ = value;
+}
+
+// repeated .ohla.rti.proto.RegionHandle regionHandles = 2;
+inline int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::regionhandles_size() const {
+  return regionhandles_.size();
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::clear_regionhandles() {
+  regionhandles_.Clear();
+}
+inline const ::ohla::rti::proto::RegionHandle& FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::regionhandles(int index) const {
+  return regionhandles_.Get(index);
+}
+inline ::ohla::rti::proto::RegionHandle* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::mutable_regionhandles(int index) {
+  return regionhandles_.Mutable(index);
+}
+inline ::ohla::rti::proto::RegionHandle* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::add_regionhandles() {
+  return regionhandles_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >&
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::regionhandles() const {
+  return regionhandles_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >*
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation::mutable_regionhandles() {
+  return &regionhandles_;
+}
+
+// -------------------------------------------------------------------
+
+// FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState
+
+// required uint32 attributeHandle = 1;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::has_attributehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_has_attributehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_has_attributehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_attributehandle() {
+  attributehandle_ = 0u;
+  clear_has_attributehandle();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::attributehandle() const {
+  return attributehandle_;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_attributehandle(::google::protobuf::uint32 value) {
+  set_has_attributehandle();
+  attributehandle_ = value;
+}
+
+// required double updateRate = 2;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::has_updaterate() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_has_updaterate() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_has_updaterate() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_updaterate() {
+  updaterate_ = 0;
+  clear_has_updaterate();
+}
+inline double FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::updaterate() const {
+  return updaterate_;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_updaterate(double value) {
+  set_has_updaterate();
+  updaterate_ = value;
+}
+
+// required uint32 transportationTypeHandle = 3;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::has_transportationtypehandle() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_has_transportationtypehandle() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_has_transportationtypehandle() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_transportationtypehandle() {
+  transportationtypehandle_ = 0u;
+  clear_has_transportationtypehandle();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::transportationtypehandle() const {
+  return transportationtypehandle_;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_transportationtypehandle(::google::protobuf::uint32 value) {
+  set_has_transportationtypehandle();
+  transportationtypehandle_ = value;
+}
+
+// required .ohla.rti.proto.OrderType orderType = 4;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::has_ordertype() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_has_ordertype() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_has_ordertype() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_ordertype() {
+  ordertype_ = 1;
+  clear_has_ordertype();
+}
+inline ::ohla::rti::proto::OrderType FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::ordertype() const {
+  return static_cast< ::ohla::rti::proto::OrderType >(ordertype_);
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_ordertype(::ohla::rti::proto::OrderType value) {
+  assert(::ohla::rti::proto::OrderType_IsValid(value));
+  set_has_ordertype();
+  ordertype_ = value;
+}
+
+// optional uint32 owningFederateHandle = 5;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::has_owningfederatehandle() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_has_owningfederatehandle() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_has_owningfederatehandle() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_owningfederatehandle() {
+  owningfederatehandle_ = 0u;
+  clear_has_owningfederatehandle();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::owningfederatehandle() const {
+  return owningfederatehandle_;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_owningfederatehandle(::google::protobuf::uint32 value) {
+  set_has_owningfederatehandle();
+  owningfederatehandle_ = value;
+}
+
+// required bool wantsToDivest = 6;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::has_wantstodivest() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_has_wantstodivest() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_has_wantstodivest() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_wantstodivest() {
+  wantstodivest_ = false;
+  clear_has_wantstodivest();
+}
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::wantstodivest() const {
+  return wantstodivest_;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_wantstodivest(bool value) {
+  set_has_wantstodivest();
+  wantstodivest_ = value;
+}
+
+// optional bytes divestingTag = 7;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::has_divestingtag() const {
+  return (_has_bits_[0] & 0x00000040u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_has_divestingtag() {
+  _has_bits_[0] |= 0x00000040u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_has_divestingtag() {
+  _has_bits_[0] &= ~0x00000040u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_divestingtag() {
+  if (divestingtag_ != &::google::protobuf::internal::kEmptyString) {
+    divestingtag_->clear();
+  }
+  clear_has_divestingtag();
+}
+inline const ::std::string& FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::divestingtag() const {
+  return *divestingtag_;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_divestingtag(const ::std::string& value) {
+  set_has_divestingtag();
+  if (divestingtag_ == &::google::protobuf::internal::kEmptyString) {
+    divestingtag_ = new ::std::string;
+  }
+  divestingtag_->assign(value);
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_divestingtag(const char* value) {
+  set_has_divestingtag();
+  if (divestingtag_ == &::google::protobuf::internal::kEmptyString) {
+    divestingtag_ = new ::std::string;
+  }
+  divestingtag_->assign(value);
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_divestingtag(const void* value, size_t size) {
+  set_has_divestingtag();
+  if (divestingtag_ == &::google::protobuf::internal::kEmptyString) {
+    divestingtag_ = new ::std::string;
+  }
+  divestingtag_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::mutable_divestingtag() {
+  set_has_divestingtag();
+  if (divestingtag_ == &::google::protobuf::internal::kEmptyString) {
+    divestingtag_ = new ::std::string;
+  }
+  return divestingtag_;
+}
+inline ::std::string* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::release_divestingtag() {
+  clear_has_divestingtag();
+  if (divestingtag_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = divestingtag_;
+    divestingtag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_allocated_divestingtag(::std::string* divestingtag) {
+  if (divestingtag_ != &::google::protobuf::internal::kEmptyString) {
+    delete divestingtag_;
+  }
+  if (divestingtag) {
+    set_has_divestingtag();
+    divestingtag_ = divestingtag;
+  } else {
+    clear_has_divestingtag();
+    divestingtag_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// repeated uint32 requestingOwnershipFederateHandles = 8;
+inline int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::requestingownershipfederatehandles_size() const {
+  return requestingownershipfederatehandles_.size();
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_requestingownershipfederatehandles() {
+  requestingownershipfederatehandles_.Clear();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::requestingownershipfederatehandles(int index) const {
+  return requestingownershipfederatehandles_.Get(index);
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::set_requestingownershipfederatehandles(int index, ::google::protobuf::uint32 value) {
+  requestingownershipfederatehandles_.Set(index, value);
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::add_requestingownershipfederatehandles(::google::protobuf::uint32 value) {
+  requestingownershipfederatehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::requestingownershipfederatehandles() const {
+  return requestingownershipfederatehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::mutable_requestingownershipfederatehandles() {
+  return &requestingownershipfederatehandles_;
+}
+
+// repeated .ohla.rti.proto.RegionHandle regionRealizations = 9;
+inline int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::regionrealizations_size() const {
+  return regionrealizations_.size();
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_regionrealizations() {
+  regionrealizations_.Clear();
+}
+inline const ::ohla::rti::proto::RegionHandle& FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::regionrealizations(int index) const {
+  return regionrealizations_.Get(index);
+}
+inline ::ohla::rti::proto::RegionHandle* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::mutable_regionrealizations(int index) {
+  return regionrealizations_.Mutable(index);
+}
+inline ::ohla::rti::proto::RegionHandle* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::add_regionrealizations() {
+  return regionrealizations_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >&
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::regionrealizations() const {
+  return regionrealizations_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionHandle >*
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::mutable_regionrealizations() {
+  return &regionrealizations_;
+}
+
+// repeated .ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState.FederationExecutionAttributeInstanceState.PendingRegionAssociation pendingRegionAssociations = 10;
+inline int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::pendingregionassociations_size() const {
+  return pendingregionassociations_.size();
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::clear_pendingregionassociations() {
+  pendingregionassociations_.Clear();
+}
+inline const ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation& FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::pendingregionassociations(int index) const {
+  return pendingregionassociations_.Get(index);
+}
+inline ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::mutable_pendingregionassociations(int index) {
+  return pendingregionassociations_.Mutable(index);
+}
+inline ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::add_pendingregionassociations() {
+  return pendingregionassociations_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation >&
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::pendingregionassociations() const {
+  return pendingregionassociations_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState_PendingRegionAssociation >*
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState::mutable_pendingregionassociations() {
+  return &pendingregionassociations_;
+}
+
+// -------------------------------------------------------------------
+
+// FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState
+
+// required uint32 producingFederateHandle = 1;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::has_producingfederatehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::set_has_producingfederatehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::clear_has_producingfederatehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::clear_producingfederatehandle() {
+  producingfederatehandle_ = 0u;
+  clear_has_producingfederatehandle();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::producingfederatehandle() const {
+  return producingfederatehandle_;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::set_producingfederatehandle(::google::protobuf::uint32 value) {
+  set_has_producingfederatehandle();
+  producingfederatehandle_ = value;
+}
+
+// required .ohla.rti.proto.ObjectInstanceHandle objectInstanceHandle = 2;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::clear_objectinstancehandle() {
+  if (objectinstancehandle_ != NULL) objectinstancehandle_->::ohla::rti::proto::ObjectInstanceHandle::Clear();
+  clear_has_objectinstancehandle();
+}
+inline const ::ohla::rti::proto::ObjectInstanceHandle& FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::objectinstancehandle() const {
+  return objectinstancehandle_ != NULL ? *objectinstancehandle_ : *default_instance_->objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::mutable_objectinstancehandle() {
+  set_has_objectinstancehandle();
+  if (objectinstancehandle_ == NULL) objectinstancehandle_ = new ::ohla::rti::proto::ObjectInstanceHandle;
+  return objectinstancehandle_;
+}
+inline ::ohla::rti::proto::ObjectInstanceHandle* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::release_objectinstancehandle() {
+  clear_has_objectinstancehandle();
+  ::ohla::rti::proto::ObjectInstanceHandle* temp = objectinstancehandle_;
+  objectinstancehandle_ = NULL;
+  return temp;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::set_allocated_objectinstancehandle(::ohla::rti::proto::ObjectInstanceHandle* objectinstancehandle) {
+  delete objectinstancehandle_;
+  objectinstancehandle_ = objectinstancehandle;
+  if (objectinstancehandle) {
+    set_has_objectinstancehandle();
+  } else {
+    clear_has_objectinstancehandle();
+  }
+}
+
+// required uint32 objectClassHandle = 3;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// required string objectInstanceName = 4;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::has_objectinstancename() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::set_has_objectinstancename() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::clear_has_objectinstancename() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::clear_objectinstancename() {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_->clear();
+  }
+  clear_has_objectinstancename();
+}
+inline const ::std::string& FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::objectinstancename() const {
+  return *objectinstancename_;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::set_objectinstancename(const ::std::string& value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::set_objectinstancename(const char* value) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(value);
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::set_objectinstancename(const char* value, size_t size) {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  objectinstancename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::mutable_objectinstancename() {
+  set_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    objectinstancename_ = new ::std::string;
+  }
+  return objectinstancename_;
+}
+inline ::std::string* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::release_objectinstancename() {
+  clear_has_objectinstancename();
+  if (objectinstancename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = objectinstancename_;
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::set_allocated_objectinstancename(::std::string* objectinstancename) {
+  if (objectinstancename_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectinstancename_;
+  }
+  if (objectinstancename) {
+    set_has_objectinstancename();
+    objectinstancename_ = objectinstancename;
+  } else {
+    clear_has_objectinstancename();
+    objectinstancename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// repeated .ohla.rti.proto.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState.FederationExecutionAttributeInstanceState attributeInstanceStates = 5;
+inline int FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::attributeinstancestates_size() const {
+  return attributeinstancestates_.size();
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::clear_attributeinstancestates() {
+  attributeinstancestates_.Clear();
+}
+inline const ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState& FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::attributeinstancestates(int index) const {
+  return attributeinstancestates_.Get(index);
+}
+inline ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::mutable_attributeinstancestates(int index) {
+  return attributeinstancestates_.Mutable(index);
+}
+inline ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState* FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::add_attributeinstancestates() {
+  return attributeinstancestates_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState >&
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::attributeinstancestates() const {
+  return attributeinstancestates_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState_FederationExecutionAttributeInstanceState >*
+FederationExecutionState_FederationExecutionObjectManagerState_FederationExecutionObjectInstanceState::mutable_attributeinstancestates() {
+  return &attributeinstancestates_;
+}
+
+// -------------------------------------------------------------------
+
+// FederationExecutionState_FederationExecutionObjectManagerState
+
+// required uint32 reservedObjectInstanceNameCount = 1;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState::has_reservedobjectinstancenamecount() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState::set_has_reservedobjectinstancenamecount() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState::clear_has_reservedobjectinstancenamecount() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState::clear_reservedobjectinstancenamecount() {
+  reservedobjectinstancenamecount_ = 0u;
+  clear_has_reservedobjectinstancenamecount();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionObjectManagerState::reservedobjectinstancenamecount() const {
+  return reservedobjectinstancenamecount_;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState::set_reservedobjectinstancenamecount(::google::protobuf::uint32 value) {
+  set_has_reservedobjectinstancenamecount();
+  reservedobjectinstancenamecount_ = value;
+}
+
+// required uint32 objectInstanceStateCount = 2;
+inline bool FederationExecutionState_FederationExecutionObjectManagerState::has_objectinstancestatecount() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState::set_has_objectinstancestatecount() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState::clear_has_objectinstancestatecount() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState::clear_objectinstancestatecount() {
+  objectinstancestatecount_ = 0u;
+  clear_has_objectinstancestatecount();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionObjectManagerState::objectinstancestatecount() const {
+  return objectinstancestatecount_;
+}
+inline void FederationExecutionState_FederationExecutionObjectManagerState::set_objectinstancestatecount(::google::protobuf::uint32 value) {
+  set_has_objectinstancestatecount();
+  objectinstancestatecount_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState
+
+// required .ohla.rti.proto.RegionHandle regionHandle = 1;
+inline bool FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::has_regionhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::set_has_regionhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::clear_has_regionhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::clear_regionhandle() {
+  if (regionhandle_ != NULL) regionhandle_->::ohla::rti::proto::RegionHandle::Clear();
+  clear_has_regionhandle();
+}
+inline const ::ohla::rti::proto::RegionHandle& FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::regionhandle() const {
+  return regionhandle_ != NULL ? *regionhandle_ : *default_instance_->regionhandle_;
+}
+inline ::ohla::rti::proto::RegionHandle* FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::mutable_regionhandle() {
+  set_has_regionhandle();
+  if (regionhandle_ == NULL) regionhandle_ = new ::ohla::rti::proto::RegionHandle;
+  return regionhandle_;
+}
+inline ::ohla::rti::proto::RegionHandle* FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::release_regionhandle() {
+  clear_has_regionhandle();
+  ::ohla::rti::proto::RegionHandle* temp = regionhandle_;
+  regionhandle_ = NULL;
+  return temp;
+}
+inline void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::set_allocated_regionhandle(::ohla::rti::proto::RegionHandle* regionhandle) {
+  delete regionhandle_;
+  regionhandle_ = regionhandle;
+  if (regionhandle) {
+    set_has_regionhandle();
+  } else {
+    clear_has_regionhandle();
+  }
+}
+
+// repeated .ohla.rti.proto.DimensionRangeBound rangeBounds = 2;
+inline int FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::rangebounds_size() const {
+  return rangebounds_.size();
+}
+inline void FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::clear_rangebounds() {
+  rangebounds_.Clear();
+}
+inline const ::ohla::rti::proto::DimensionRangeBound& FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::rangebounds(int index) const {
+  return rangebounds_.Get(index);
+}
+inline ::ohla::rti::proto::DimensionRangeBound* FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::mutable_rangebounds(int index) {
+  return rangebounds_.Mutable(index);
+}
+inline ::ohla::rti::proto::DimensionRangeBound* FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::add_rangebounds() {
+  return rangebounds_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >&
+FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::rangebounds() const {
+  return rangebounds_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::DimensionRangeBound >*
+FederationExecutionState_FederationExecutionRegionManagerState_FederationExecutionRegionState::mutable_rangebounds() {
+  return &rangebounds_;
+}
+
+// -------------------------------------------------------------------
+
+// FederationExecutionState_FederationExecutionRegionManagerState
+
+// required uint32 regionStateCount = 1;
+inline bool FederationExecutionState_FederationExecutionRegionManagerState::has_regionstatecount() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionRegionManagerState::set_has_regionstatecount() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionRegionManagerState::clear_has_regionstatecount() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederationExecutionState_FederationExecutionRegionManagerState::clear_regionstatecount() {
+  regionstatecount_ = 0u;
+  clear_has_regionstatecount();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionRegionManagerState::regionstatecount() const {
+  return regionstatecount_;
+}
+inline void FederationExecutionState_FederationExecutionRegionManagerState::set_regionstatecount(::google::protobuf::uint32 value) {
+  set_has_regionstatecount();
+  regionstatecount_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FederationExecutionState_FederationExecutionTimeManagerState
+
+// repeated uint32 timeRegulatingFederateHandles = 1;
+inline int FederationExecutionState_FederationExecutionTimeManagerState::timeregulatingfederatehandles_size() const {
+  return timeregulatingfederatehandles_.size();
+}
+inline void FederationExecutionState_FederationExecutionTimeManagerState::clear_timeregulatingfederatehandles() {
+  timeregulatingfederatehandles_.Clear();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionTimeManagerState::timeregulatingfederatehandles(int index) const {
+  return timeregulatingfederatehandles_.Get(index);
+}
+inline void FederationExecutionState_FederationExecutionTimeManagerState::set_timeregulatingfederatehandles(int index, ::google::protobuf::uint32 value) {
+  timeregulatingfederatehandles_.Set(index, value);
+}
+inline void FederationExecutionState_FederationExecutionTimeManagerState::add_timeregulatingfederatehandles(::google::protobuf::uint32 value) {
+  timeregulatingfederatehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FederationExecutionState_FederationExecutionTimeManagerState::timeregulatingfederatehandles() const {
+  return timeregulatingfederatehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FederationExecutionState_FederationExecutionTimeManagerState::mutable_timeregulatingfederatehandles() {
+  return &timeregulatingfederatehandles_;
+}
+
+// repeated uint32 timeConstrainedFederateHandles = 2;
+inline int FederationExecutionState_FederationExecutionTimeManagerState::timeconstrainedfederatehandles_size() const {
+  return timeconstrainedfederatehandles_.size();
+}
+inline void FederationExecutionState_FederationExecutionTimeManagerState::clear_timeconstrainedfederatehandles() {
+  timeconstrainedfederatehandles_.Clear();
+}
+inline ::google::protobuf::uint32 FederationExecutionState_FederationExecutionTimeManagerState::timeconstrainedfederatehandles(int index) const {
+  return timeconstrainedfederatehandles_.Get(index);
+}
+inline void FederationExecutionState_FederationExecutionTimeManagerState::set_timeconstrainedfederatehandles(int index, ::google::protobuf::uint32 value) {
+  timeconstrainedfederatehandles_.Set(index, value);
+}
+inline void FederationExecutionState_FederationExecutionTimeManagerState::add_timeconstrainedfederatehandles(::google::protobuf::uint32 value) {
+  timeconstrainedfederatehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FederationExecutionState_FederationExecutionTimeManagerState::timeconstrainedfederatehandles() const {
+  return timeconstrainedfederatehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FederationExecutionState_FederationExecutionTimeManagerState::mutable_timeconstrainedfederatehandles() {
+  return &timeconstrainedfederatehandles_;
+}
+
+// optional bytes galt = 3;
+inline bool FederationExecutionState_FederationExecutionTimeManagerState::has_galt() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FederationExecutionState_FederationExecutionTimeManagerState::set_has_galt() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FederationExecutionState_FederationExecutionTimeManagerState::clear_has_galt() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FederationExecutionState_FederationExecutionTimeManagerState::clear_galt() {
+  if (galt_ != &::google::protobuf::internal::kEmptyString) {
+    galt_->clear();
+  }
+  clear_has_galt();
+}
+inline const ::std::string& FederationExecutionState_FederationExecutionTimeManagerState::galt() const {
+  return *galt_;
+}
+inline void FederationExecutionState_FederationExecutionTimeManagerState::set_galt(const ::std::string& value) {
+  set_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    galt_ = new ::std::string;
+  }
+  galt_->assign(value);
+}
+inline void FederationExecutionState_FederationExecutionTimeManagerState::set_galt(const char* value) {
+  set_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    galt_ = new ::std::string;
+  }
+  galt_->assign(value);
+}
+inline void FederationExecutionState_FederationExecutionTimeManagerState::set_galt(const void* value, size_t size) {
+  set_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    galt_ = new ::std::string;
+  }
+  galt_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederationExecutionState_FederationExecutionTimeManagerState::mutable_galt() {
+  set_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    galt_ = new ::std::string;
+  }
+  return galt_;
+}
+inline ::std::string* FederationExecutionState_FederationExecutionTimeManagerState::release_galt() {
+  clear_has_galt();
+  if (galt_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = galt_;
+    galt_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederationExecutionState_FederationExecutionTimeManagerState::set_allocated_galt(::std::string* galt) {
+  if (galt_ != &::google::protobuf::internal::kEmptyString) {
+    delete galt_;
+  }
+  if (galt) {
+    set_has_galt();
+    galt_ = galt;
+  } else {
+    clear_has_galt();
+    galt_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// FederationExecutionState
+
+// required uint32 nextFederateHandle = 1;
+inline bool FederationExecutionState::has_nextfederatehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederationExecutionState::set_has_nextfederatehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederationExecutionState::clear_has_nextfederatehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederationExecutionState::clear_nextfederatehandle() {
+  nextfederatehandle_ = 0u;
+  clear_has_nextfederatehandle();
+}
+inline ::google::protobuf::uint32 FederationExecutionState::nextfederatehandle() const {
+  return nextfederatehandle_;
+}
+inline void FederationExecutionState::set_nextfederatehandle(::google::protobuf::uint32 value) {
+  set_has_nextfederatehandle();
+  nextfederatehandle_ = value;
+}
+
+// required uint32 synchonizationPointStateCount = 2;
+inline bool FederationExecutionState::has_synchonizationpointstatecount() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederationExecutionState::set_has_synchonizationpointstatecount() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederationExecutionState::clear_has_synchonizationpointstatecount() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederationExecutionState::clear_synchonizationpointstatecount() {
+  synchonizationpointstatecount_ = 0u;
+  clear_has_synchonizationpointstatecount();
+}
+inline ::google::protobuf::uint32 FederationExecutionState::synchonizationpointstatecount() const {
+  return synchonizationpointstatecount_;
+}
+inline void FederationExecutionState::set_synchonizationpointstatecount(::google::protobuf::uint32 value) {
+  set_has_synchonizationpointstatecount();
+  synchonizationpointstatecount_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// SavedFederationExecutionMessage
+
+// required uint32 sendingFederateHandle = 1;
+inline bool SavedFederationExecutionMessage::has_sendingfederatehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void SavedFederationExecutionMessage::set_has_sendingfederatehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void SavedFederationExecutionMessage::clear_has_sendingfederatehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void SavedFederationExecutionMessage::clear_sendingfederatehandle() {
+  sendingfederatehandle_ = 0u;
+  clear_has_sendingfederatehandle();
+}
+inline ::google::protobuf::uint32 SavedFederationExecutionMessage::sendingfederatehandle() const {
+  return sendingfederatehandle_;
+}
+inline void SavedFederationExecutionMessage::set_sendingfederatehandle(::google::protobuf::uint32 value) {
+  set_has_sendingfederatehandle();
+  sendingfederatehandle_ = value;
+}
+
+// required .ohla.rti.messages.proto.MessageType federationExecutionMessageType = 2;
+inline bool SavedFederationExecutionMessage::has_federationexecutionmessagetype() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void SavedFederationExecutionMessage::set_has_federationexecutionmessagetype() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void SavedFederationExecutionMessage::clear_has_federationexecutionmessagetype() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void SavedFederationExecutionMessage::clear_federationexecutionmessagetype() {
+  federationexecutionmessagetype_ = 1;
+  clear_has_federationexecutionmessagetype();
+}
+inline ::ohla::rti::messages::proto::MessageType SavedFederationExecutionMessage::federationexecutionmessagetype() const {
+  return static_cast< ::ohla::rti::messages::proto::MessageType >(federationexecutionmessagetype_);
+}
+inline void SavedFederationExecutionMessage::set_federationexecutionmessagetype(::ohla::rti::messages::proto::MessageType value) {
+  assert(::ohla::rti::messages::proto::MessageType_IsValid(value));
+  set_has_federationexecutionmessagetype();
+  federationexecutionmessagetype_ = value;
+}
+
+
+// @@protoc_insertion_point(namespace_scope)
+
+}  // namespace proto
+}  // namespace rti
+}  // namespace ohla
+
+#ifndef SWIG
+namespace google {
+namespace protobuf {
+
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::proto::FederateState_FederateSynchonizationPointState_State>() {
+  return ::ohla::rti::proto::FederateState_FederateSynchonizationPointState_State_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::proto::FederateState_FederateTimeManagerState_TemporalState>() {
+  return ::ohla::rti::proto::FederateState_FederateTimeManagerState_TemporalState_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeRegulatingState>() {
+  return ::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeRegulatingState_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeConstrainedState>() {
+  return ::ohla::rti::proto::FederateState_FederateTimeManagerState_TimeConstrainedState_descriptor();
+}
+
+}  // namespace google
+}  // namespace protobuf
+#endif  // SWIG
+
+// @@protoc_insertion_point(global_scope)
+
+#endif  // PROTOBUF_FederationExecutionSaveProtos_2eproto__INCLUDED
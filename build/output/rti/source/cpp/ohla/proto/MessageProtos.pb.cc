@@ -0,0 +1,1213 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageProtos.proto
+
+#define INTERNAL_SUPPRESS_PROTOBUF_FIELD_DEPRECATION
+#include "MessageProtos.pb.h"
+
+#include <algorithm>
+
+#include <google/protobuf/stubs/common.h>
+#include <google/protobuf/stubs/once.h>
+#include <google/protobuf/io/coded_stream.h>
+#include <google/protobuf/wire_format_lite_inl.h>
+#include <google/protobuf/descriptor.h>
+#include <google/protobuf/generated_message_reflection.h>
+#include <google/protobuf/reflection_ops.h>
+#include <google/protobuf/wire_format.h>
+// @@protoc_insertion_point(includes)
+
+namespace ohla {
+namespace rti {
+namespace messages {
+namespace proto {
+
+namespace {
+
+const ::google::protobuf::Descriptor* AttributeValue_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AttributeValue_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ParameterValue_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ParameterValue_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FederateStateFrame_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FederateStateFrame_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* MessageType_descriptor_ = NULL;
+
+}  // namespace
+
+
+void protobuf_AssignDesc_MessageProtos_2eproto() {
+  protobuf_AddDesc_MessageProtos_2eproto();
+  const ::google::protobuf::FileDescriptor* file =
+    ::google::protobuf::DescriptorPool::generated_pool()->FindFileByName(
+      "MessageProtos.proto");
+  GOOGLE_CHECK(file != NULL);
+  AttributeValue_descriptor_ = file->message_type(0);
+  static const int AttributeValue_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeValue, attributehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeValue, value_),
+  };
+  AttributeValue_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AttributeValue_descriptor_,
+      AttributeValue::default_instance_,
+      AttributeValue_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeValue, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeValue, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AttributeValue));
+  ParameterValue_descriptor_ = file->message_type(1);
+  static const int ParameterValue_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ParameterValue, parameterhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ParameterValue, value_),
+  };
+  ParameterValue_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ParameterValue_descriptor_,
+      ParameterValue::default_instance_,
+      ParameterValue_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ParameterValue, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ParameterValue, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ParameterValue));
+  FederateStateFrame_descriptor_ = file->message_type(2);
+  static const int FederateStateFrame_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateStateFrame, payload_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateStateFrame, last_),
+  };
+  FederateStateFrame_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FederateStateFrame_descriptor_,
+      FederateStateFrame::default_instance_,
+      FederateStateFrame_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateStateFrame, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FederateStateFrame, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FederateStateFrame));
+  MessageType_descriptor_ = file->enum_type(0);
+}
+
+namespace {
+
+GOOGLE_PROTOBUF_DECLARE_ONCE(protobuf_AssignDescriptors_once_);
+inline void protobuf_AssignDescriptorsOnce() {
+  ::google::protobuf::GoogleOnceInit(&protobuf_AssignDescriptors_once_,
+                 &protobuf_AssignDesc_MessageProtos_2eproto);
+}
+
+void protobuf_RegisterTypes(const ::std::string&) {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AttributeValue_descriptor_, &AttributeValue::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ParameterValue_descriptor_, &ParameterValue::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FederateStateFrame_descriptor_, &FederateStateFrame::default_instance());
+}
+
+}  // namespace
+
+void protobuf_ShutdownFile_MessageProtos_2eproto() {
+  delete AttributeValue::default_instance_;
+  delete AttributeValue_reflection_;
+  delete ParameterValue::default_instance_;
+  delete ParameterValue_reflection_;
+  delete FederateStateFrame::default_instance_;
+  delete FederateStateFrame_reflection_;
+}
+
+void protobuf_AddDesc_MessageProtos_2eproto() {
+  static bool already_here = false;
+  if (already_here) return;
+  already_here = true;
+  GOOGLE_PROTOBUF_VERIFY_VERSION;
+
+  ::ohla::rti::proto::protobuf_AddDesc_OHLAProtos_2eproto();
+  ::google::protobuf::DescriptorPool::InternalAddGeneratedFile(
+    "\n\023MessageProtos.proto\022\027ohla.rti.messages"
+    ".proto\032\020OHLAProtos.proto\"8\n\016AttributeVal"
+    "ue\022\027\n\017attributeHandle\030\001 \002(\r\022\r\n\005value\030\002 \002"
+    "(\014\"8\n\016ParameterValue\022\027\n\017parameterHandle\030"
+    "\001 \002(\r\022\r\n\005value\030\002 \002(\014\"3\n\022FederateStateFra"
+    "me\022\017\n\007payload\030\001 \002(\014\022\014\n\004last\030\002 \002(\010*\376&\n\013Me"
+    "ssageType\022\017\n\013FDD_UPDATED\020\001\022\037\n\033CREATE_FED"
+    "ERATION_EXECUTION\020\002\022(\n$CREATE_FEDERATION"
+    "_EXECUTION_RESPONSE\020\003\022 \n\034DESTROY_FEDERAT"
+    "ION_EXECUTION\020\004\022)\n%DESTROY_FEDERATION_EX"
+    "ECUTION_RESPONSE\020\005\022\036\n\032LIST_FEDERATION_EX"
+    "ECUTIONS\020\006\022\035\n\031JOIN_FEDERATION_EXECUTION\020"
+    "\007\022&\n\"JOIN_FEDERATION_EXECUTION_RESPONSE\020"
+    "\010\022\037\n\033RESIGN_FEDERATION_EXECUTION\020\t\022!\n\035RE"
+    "SIGNED_FEDERATION_EXECUTION\020\n\022-\n)REGISTE"
+    "R_FEDERATION_SYNCHRONIZATION_POINT\020\013\022\"\n\036"
+    "SYNCHRONIZATION_POINT_ACHIEVED\020\014\022\033\n\027REQU"
+    "EST_FEDERATION_SAVE\020\r\022$\n REQUEST_FEDERAT"
+    "ION_SAVE_RESPONSE\020\016\022\027\n\023FEDERATE_SAVE_BEG"
+    "UN\020\017\022\032\n\026FEDERATE_SAVE_COMPLETE\020\020\022\036\n\032FEDE"
+    "RATE_SAVE_NOT_COMPLETE\020\021\022\031\n\025ABORT_FEDERA"
+    "TION_SAVE\020\022\022\"\n\036ABORT_FEDERATION_SAVE_RES"
+    "PONSE\020\023\022 \n\034QUERY_FEDERATION_SAVE_STATUS\020"
+    "\024\022\036\n\032REQUEST_FEDERATION_RESTORE\020\025\022\'\n#REQ"
+    "UEST_FEDERATION_RESTORE_RESPONSE\020\026\022\035\n\031FE"
+    "DERATE_RESTORE_COMPLETE\020\027\022!\n\035FEDERATE_RE"
+    "STORE_NOT_COMPLETE\020\030\022\034\n\030ABORT_FEDERATION"
+    "_RESTORE\020\031\022%\n!ABORT_FEDERATION_RESTORE_R"
+    "ESPONSE\020\032\022#\n\037QUERY_FEDERATION_RESTORE_ST"
+    "ATUS\020\033\022#\n\037PUBLISH_OBJECT_CLASS_ATTRIBUTE"
+    "S\020\034\022\032\n\026UNPUBLISH_OBJECT_CLASS\020\035\022%\n!UNPUB"
+    "LISH_OBJECT_CLASS_ATTRIBUTES\020\036\022\035\n\031PUBLIS"
+    "H_INTERACTION_CLASS\020\037\022\037\n\033UNPUBLISH_INTER"
+    "ACTION_CLASS\020 \022%\n!SUBSCRIBE_OBJECT_CLASS"
+    "_ATTRIBUTES\020!\022\'\n#UNSUBSCRIBE_OBJECT_CLAS"
+    "S_ATTRIBUTES\020\"\022\037\n\033SUBSCRIBE_INTERACTION_"
+    "CLASS\020#\022!\n\035UNSUBSCRIBE_INTERACTION_CLASS"
+    "\020$\022 \n\034RESERVE_OBJECT_INSTANCE_NAME\020%\022 \n\034"
+    "RELEASE_OBJECT_INSTANCE_NAME\020&\022)\n%RESERV"
+    "E_MULTIPLE_OBJECT_INSTANCE_NAME\020\'\0227\n3MUL"
+    "TIPLE_OBJECT_INSTANCE_NAME_RESERVATION_S"
+    "UCCEEDED\020(\0224\n0MULTIPLE_OBJECT_INSTANCE_N"
+    "AME_RESERVATION_FAILED\020)\022)\n%RELEASE_MULT"
+    "IPLE_OBJECT_INSTANCE_NAME\020*\022\034\n\030REGISTER_"
+    "OBJECT_INSTANCE\020+\022\033\n\027UPDATE_ATTRIBUTE_VA"
+    "LUES\020,\022\024\n\020SEND_INTERACTION\020-\022\032\n\026DELETE_O"
+    "BJECT_INSTANCE\020.\022 \n\034LOCAL_DELETE_OBJECT_"
+    "INSTANCE\020/\0222\n.REQUEST_OBJECT_INSTANCE_AT"
+    "TRIBUTE_VALUE_UPDATE\0200\022/\n+REQUEST_OBJECT"
+    "_CLASS_ATTRIBUTE_VALUE_UPDATE\0201\022<\n8REQUE"
+    "ST_OBJECT_CLASS_ATTRIBUTE_VALUE_UPDATE_W"
+    "ITH_REGIONS\0202\022\"\n\036SET_AUTOMATIC_RESIGN_DI"
+    "RECTIVE\0203\022\027\n\023GET_FEDERATE_HANDLE\0204\022 \n\034GE"
+    "T_FEDERATE_HANDLE_RESPONSE\0205\022\025\n\021GET_FEDE"
+    "RATE_NAME\0206\022\036\n\032GET_FEDERATE_NAME_RESPONS"
+    "E\0207\022\'\n#GET_UPDATE_RATE_VALUE_FOR_ATTRIBU"
+    "TE\0208\0220\n,GET_UPDATE_RATE_VALUE_FOR_ATTRIB"
+    "UTE_RESPONSE\0209\022)\n%QUERY_INTERACTION_TRAN"
+    "SPORTATION_TYPE\020:\022*\n&REPORT_INTERACTION_"
+    "TRANSPORTATION_TYPE\020;\0221\n-UNCONDITIONAL_A"
+    "TTRIBUTE_OWNERSHIP_DIVESTITURE\020<\022.\n*NEGO"
+    "TIATED_ATTRIBUTE_OWNERSHIP_DIVESTITURE\020="
+    "\022\027\n\023CONFIRM_DIVESTITURE\020>\022#\n\037ATTRIBUTE_O"
+    "WNERSHIP_ACQUISITION\020\?\0220\n,ATTRIBUTE_OWNE"
+    "RSHIP_ACQUISITION_IF_AVAILABLE\020@\022-\n)ATTR"
+    "IBUTE_OWNERSHIP_DIVESTITURE_IF_WANTED\020A\022"
+    "6\n2ATTRIBUTE_OWNERSHIP_DIVESTITURE_IF_WA"
+    "NTED_RESPONSE\020B\0225\n1CANCEL_NEGOTIATED_ATT"
+    "RIBUTE_OWNERSHIP_DIVESTITURE\020C\022*\n&CANCEL"
+    "_ATTRIBUTE_OWNERSHIP_ACQUISITION\020D\022\035\n\031QU"
+    "ERY_ATTRIBUTE_OWNERSHIP\020E\022\032\n\026ENABLE_TIME"
+    "_REGULATION\020F\022\033\n\027DISABLE_TIME_REGULATION"
+    "\020G\022\033\n\027ENABLE_TIME_CONSTRAINED\020H\022\034\n\030DISAB"
+    "LE_TIME_CONSTRAINED\020I\022\030\n\024TIME_ADVANCE_RE"
+    "QUEST\020J\022\"\n\036TIME_ADVANCE_REQUEST_AVAILABL"
+    "E\020K\022\030\n\024NEXT_MESSAGE_REQUEST\020L\022\"\n\036NEXT_ME"
+    "SSAGE_REQUEST_AVAILABLE\020M\022\027\n\023FLUSH_QUEUE"
+    "_REQUEST\020N\022\016\n\nQUERY_GALT\020O\022\027\n\023QUERY_GALT"
+    "_RESPONSE\020P\022\016\n\nQUERY_LITS\020Q\022\027\n\023QUERY_LIT"
+    "S_RESPONSE\020R\022\024\n\020MODIFY_LOOKAHEAD\020S\022\013\n\007RE"
+    "TRACT\020T\022\024\n\020RETRACT_RESPONSE\020U\022\021\n\rCREATE_"
+    "REGION\020V\022\037\n\033COMMIT_REGION_MODIFICATIONS\020"
+    "W\022\021\n\rDELETE_REGION\020X\022!\n\035ASSOCIATE_REGION"
+    "S_FOR_UPDATES\020Y\022*\n&ASSOCIATE_REGIONS_FOR"
+    "_UPDATES_RESPONSE\020Z\022#\n\037UNASSOCIATE_REGIO"
+    "NS_FOR_UPDATES\020[\022,\n(UNASSOCIATE_REGIONS_"
+    "FOR_UPDATES_RESPONSE\020\\\0222\n.SUBSCRIBE_OBJE"
+    "CT_CLASS_ATTRIBUTES_WITH_REGIONS\020]\0224\n0UN"
+    "SUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_WITH_R"
+    "EGIONS\020^\022,\n(SUBSCRIBE_INTERACTION_CLASS_"
+    "WITH_REGIONS\020_\022.\n*UNSUBSCRIBE_INTERACTIO"
+    "N_CLASS_WITH_REGIONS\020`\022 \n\034REPORT_FEDERAT"
+    "ION_EXECUTIONS\020a\0220\n,SYNCHRONIZATION_POIN"
+    "T_REGISTRATION_SUCCEEDED\020b\022-\n)SYNCHRONIZ"
+    "ATION_POINT_REGISTRATION_FAILED\020c\022\"\n\036ANN"
+    "OUNCE_SYNCHRONIZATION_POINT\020d\022\033\n\027FEDERAT"
+    "ION_SYNCHRONIZED\020e\022\032\n\026INITIATE_FEDERATE_"
+    "SAVE\020f\022\024\n\020FEDERATION_SAVED\020g\022\030\n\024FEDERATI"
+    "ON_NOT_SAVED\020h\022#\n\037FEDERATION_SAVE_STATUS"
+    "_RESPONSE\020i\022(\n$REQUEST_FEDERATION_RESTOR"
+    "E_SUCCEEDED\020j\022%\n!REQUEST_FEDERATION_REST"
+    "ORE_FAILED\020k\022\034\n\030FEDERATION_RESTORE_BEGUN"
+    "\020l\022\035\n\031INITIATE_FEDERATE_RESTORE\020m\022\027\n\023FED"
+    "ERATION_RESTORED\020n\022\033\n\027FEDERATION_NOT_RES"
+    "TORED\020o\022&\n\"FEDERATION_RESTORE_STATUS_RES"
+    "PONSE\020p\022\'\n#START_REGISTRATION_FOR_OBJECT"
+    "_CLASS\020q\022&\n\"STOP_REGISTRATION_FOR_OBJECT"
+    "_CLASS\020r\022\030\n\024TURN_INTERACTIONS_ON\020s\022\031\n\025TU"
+    "RN_INTERACTIONS_OFF\020t\022.\n*OBJECT_INSTANCE"
+    "_NAME_RESERVATION_SUCCEEDED\020u\022+\n\'OBJECT_"
+    "INSTANCE_NAME_RESERVATION_FAILED\020v\022\034\n\030DI"
+    "SCOVER_OBJECT_INSTANCE\020w\022\034\n\030REFLECT_ATTR"
+    "IBUTE_VALUES\020x\022\032\n\026REMOVE_OBJECT_INSTANCE"
+    "\020y\022\027\n\023ATTRIBUTES_IN_SCOPE\020z\022\033\n\027ATTRIBUTE"
+    "S_OUT_OF_SCOPE\020{\022\"\n\036PROVIDE_ATTRIBUTE_VA"
+    "LUE_UPDATE\020|\022\'\n#TURN_UPDATES_ON_FOR_OBJE"
+    "CT_INSTANCE\020}\022(\n$TURN_UPDATES_OFF_FOR_OB"
+    "JECT_INSTANCE\020~\022\027\n\023RECEIVE_INTERACTION\020\177"
+    "\022+\n&REQUEST_ATTRIBUTE_OWNERSHIP_ASSUMPTI"
+    "ON\020\200\001\022%\n REQUEST_DIVESTITURE_CONFIRMATIO"
+    "N\020\201\001\0221\n,ATTRIBUTE_OWNERSHIP_ACQUISITION_"
+    "NOTIFICATION\020\202\001\022$\n\037ATTRIBUTE_OWNERSHIP_U"
+    "NAVAILABLE\020\203\001\022(\n#REQUEST_ATTRIBUTE_OWNER"
+    "SHIP_RELEASE\020\204\001\0229\n4CONFIRM_ATTRIBUTE_OWN"
+    "ERSHIP_ACQUISITION_CANCELLATION\020\205\001\022\037\n\032IN"
+    "FORM_ATTRIBUTE_OWNERSHIP\020\206\001\022\033\n\026ATTRIBUTE"
+    "_IS_NOT_OWNED\020\207\001\022\036\n\031ATTRIBUTE_IS_OWNED_B"
+    "Y_RTI\020\210\001\022\034\n\027TIME_REGULATION_ENABLED\020\211\001\022\035"
+    "\n\030TIME_CONSTRAINED_ENABLED\020\212\001\022\027\n\022TIME_AD"
+    "VANCE_GRANT\020\213\001\022\027\n\022REQUEST_RETRACTION\020\214\001\022"
+    "\031\n\024FEDERATE_STATE_FRAME\020\215\001B \n\036net.sf.ohl"
+    "a.rti.messages.proto", 5260);
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
+    "MessageProtos.proto", &protobuf_RegisterTypes);
+  AttributeValue::default_instance_ = new AttributeValue();
+  ParameterValue::default_instance_ = new ParameterValue();
+  FederateStateFrame::default_instance_ = new FederateStateFrame();
+  AttributeValue::default_instance_->InitAsDefaultInstance();
+  ParameterValue::default_instance_->InitAsDefaultInstance();
+  FederateStateFrame::default_instance_->InitAsDefaultInstance();
+  ::google::protobuf::internal::OnShutdown(&protobuf_ShutdownFile_MessageProtos_2eproto);
+}
+
+// Force AddDescriptors() to be called at static initialization time.
+struct StaticDescriptorInitializer_MessageProtos_2eproto {
+  StaticDescriptorInitializer_MessageProtos_2eproto() {
+    protobuf_AddDesc_MessageProtos_2eproto();
+  }
+} static_descriptor_initializer_MessageProtos_2eproto_;
+const ::google::protobuf::EnumDescriptor* MessageType_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return MessageType_descriptor_;
+}
+bool MessageType_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+    case 3:
+    case 4:
+    case 5:
+    case 6:
+    case 7:
+    case 8:
+    case 9:
+    case 10:
+    case 11:
+    case 12:
+    case 13:
+    case 14:
+    case 15:
+    case 16:
+    case 17:
+    case 18:
+    case 19:
+    case 20:
+    case 21:
+    case 22:
+    case 23:
+    case 24:
+    case 25:
+    case 26:
+    case 27:
+    case 28:
+    case 29:
+    case 30:
+    case 31:
+    case 32:
+    case 33:
+    case 34:
+    case 35:
+    case 36:
+    case 37:
+    case 38:
+    case 39:
+    case 40:
+    case 41:
+    case 42:
+    case 43:
+    case 44:
+    case 45:
+    case 46:
+    case 47:
+    case 48:
+    case 49:
+    case 50:
+    case 51:
+    case 52:
+    case 53:
+    case 54:
+    case 55:
+    case 56:
+    case 57:
+    case 58:
+    case 59:
+    case 60:
+    case 61:
+    case 62:
+    case 63:
+    case 64:
+    case 65:
+    case 66:
+    case 67:
+    case 68:
+    case 69:
+    case 70:
+    case 71:
+    case 72:
+    case 73:
+    case 74:
+    case 75:
+    case 76:
+    case 77:
+    case 78:
+    case 79:
+    case 80:
+    case 81:
+    case 82:
+    case 83:
+    case 84:
+    case 85:
+    case 86:
+    case 87:
+    case 88:
+    case 89:
+    case 90:
+    case 91:
+    case 92:
+    case 93:
+    case 94:
+    case 95:
+    case 96:
+    case 97:
+    case 98:
+    case 99:
+    case 100:
+    case 101:
+    case 102:
+    case 103:
+    case 104:
+    case 105:
+    case 106:
+    case 107:
+    case 108:
+    case 109:
+    case 110:
+    case 111:
+    case 112:
+    case 113:
+    case 114:
+    case 115:
+    case 116:
+    case 117:
+    case 118:
+    case 119:
+    case 120:
+    case 121:
+    case 122:
+    case 123:
+    case 124:
+    case 125:
+    case 126:
+    case 127:
+    case 128:
+    case 129:
+    case 130:
+    case 131:
+    case 132:
+    case 133:
+    case 134:
+    case 135:
+    case 136:
+    case 137:
+    case 138:
+    case 139:
+    case 140:
+    case 141:
+      return true;
+    default:
+      return false;
+  }
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AttributeValue::kAttributeHandleFieldNumber;
+const int AttributeValue::kValueFieldNumber;
+#endif  // !_MSC_VER
+
+AttributeValue::AttributeValue()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AttributeValue::InitAsDefaultInstance() {
+}
+
+AttributeValue::AttributeValue(const AttributeValue& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AttributeValue::SharedCtor() {
+  _cached_size_ = 0;
+  attributehandle_ = 0u;
+  value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AttributeValue::~AttributeValue() {
+  SharedDtor();
+}
+
+void AttributeValue::SharedDtor() {
+  if (value_ != &::google::protobuf::internal::kEmptyString) {
+    delete value_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void AttributeValue::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AttributeValue::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AttributeValue_descriptor_;
+}
+
+const AttributeValue& AttributeValue::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_MessageProtos_2eproto();
+  return *default_instance_;
+}
+
+AttributeValue* AttributeValue::default_instance_ = NULL;
+
+AttributeValue* AttributeValue::New() const {
+  return new AttributeValue;
+}
+
+void AttributeValue::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    attributehandle_ = 0u;
+    if (has_value()) {
+      if (value_ != &::google::protobuf::internal::kEmptyString) {
+        value_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AttributeValue::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 attributeHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &attributehandle_)));
+          set_has_attributehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_value;
+        break;
+      }
+
+      // required bytes value = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_value:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_value()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AttributeValue::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 attributeHandle = 1;
+  if (has_attributehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->attributehandle(), output);
+  }
+
+  // required bytes value = 2;
+  if (has_value()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      2, this->value(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AttributeValue::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 attributeHandle = 1;
+  if (has_attributehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->attributehandle(), target);
+  }
+
+  // required bytes value = 2;
+  if (has_value()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        2, this->value(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AttributeValue::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 attributeHandle = 1;
+    if (has_attributehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->attributehandle());
+    }
+
+    // required bytes value = 2;
+    if (has_value()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->value());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AttributeValue::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AttributeValue* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AttributeValue*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AttributeValue::MergeFrom(const AttributeValue& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_attributehandle()) {
+      set_attributehandle(from.attributehandle());
+    }
+    if (from.has_value()) {
+      set_value(from.value());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AttributeValue::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AttributeValue::CopyFrom(const AttributeValue& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AttributeValue::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void AttributeValue::Swap(AttributeValue* other) {
+  if (other != this) {
+    std::swap(attributehandle_, other->attributehandle_);
+    std::swap(value_, other->value_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AttributeValue::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AttributeValue_descriptor_;
+  metadata.reflection = AttributeValue_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ParameterValue::kParameterHandleFieldNumber;
+const int ParameterValue::kValueFieldNumber;
+#endif  // !_MSC_VER
+
+ParameterValue::ParameterValue()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ParameterValue::InitAsDefaultInstance() {
+}
+
+ParameterValue::ParameterValue(const ParameterValue& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ParameterValue::SharedCtor() {
+  _cached_size_ = 0;
+  parameterhandle_ = 0u;
+  value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ParameterValue::~ParameterValue() {
+  SharedDtor();
+}
+
+void ParameterValue::SharedDtor() {
+  if (value_ != &::google::protobuf::internal::kEmptyString) {
+    delete value_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void ParameterValue::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ParameterValue::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ParameterValue_descriptor_;
+}
+
+const ParameterValue& ParameterValue::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_MessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ParameterValue* ParameterValue::default_instance_ = NULL;
+
+ParameterValue* ParameterValue::New() const {
+  return new ParameterValue;
+}
+
+void ParameterValue::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    parameterhandle_ = 0u;
+    if (has_value()) {
+      if (value_ != &::google::protobuf::internal::kEmptyString) {
+        value_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ParameterValue::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 parameterHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &parameterhandle_)));
+          set_has_parameterhandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_value;
+        break;
+      }
+
+      // required bytes value = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_value:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_value()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ParameterValue::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 parameterHandle = 1;
+  if (has_parameterhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->parameterhandle(), output);
+  }
+
+  // required bytes value = 2;
+  if (has_value()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      2, this->value(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ParameterValue::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 parameterHandle = 1;
+  if (has_parameterhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->parameterhandle(), target);
+  }
+
+  // required bytes value = 2;
+  if (has_value()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        2, this->value(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ParameterValue::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 parameterHandle = 1;
+    if (has_parameterhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->parameterhandle());
+    }
+
+    // required bytes value = 2;
+    if (has_value()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->value());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ParameterValue::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ParameterValue* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ParameterValue*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ParameterValue::MergeFrom(const ParameterValue& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_parameterhandle()) {
+      set_parameterhandle(from.parameterhandle());
+    }
+    if (from.has_value()) {
+      set_value(from.value());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ParameterValue::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ParameterValue::CopyFrom(const ParameterValue& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ParameterValue::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void ParameterValue::Swap(ParameterValue* other) {
+  if (other != this) {
+    std::swap(parameterhandle_, other->parameterhandle_);
+    std::swap(value_, other->value_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ParameterValue::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ParameterValue_descriptor_;
+  metadata.reflection = ParameterValue_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FederateStateFrame::kPayloadFieldNumber;
+const int FederateStateFrame::kLastFieldNumber;
+#endif  // !_MSC_VER
+
+FederateStateFrame::FederateStateFrame()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FederateStateFrame::InitAsDefaultInstance() {
+}
+
+FederateStateFrame::FederateStateFrame(const FederateStateFrame& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FederateStateFrame::SharedCtor() {
+  _cached_size_ = 0;
+  payload_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  last_ = false;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FederateStateFrame::~FederateStateFrame() {
+  SharedDtor();
+}
+
+void FederateStateFrame::SharedDtor() {
+  if (payload_ != &::google::protobuf::internal::kEmptyString) {
+    delete payload_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FederateStateFrame::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FederateStateFrame::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FederateStateFrame_descriptor_;
+}
+
+const FederateStateFrame& FederateStateFrame::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_MessageProtos_2eproto();
+  return *default_instance_;
+}
+
+FederateStateFrame* FederateStateFrame::default_instance_ = NULL;
+
+FederateStateFrame* FederateStateFrame::New() const {
+  return new FederateStateFrame;
+}
+
+void FederateStateFrame::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_payload()) {
+      if (payload_ != &::google::protobuf::internal::kEmptyString) {
+        payload_->clear();
+      }
+    }
+    last_ = false;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FederateStateFrame::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required bytes payload = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_payload()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_last;
+        break;
+      }
+
+      // required bool last = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_last:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &last_)));
+          set_has_last();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FederateStateFrame::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required bytes payload = 1;
+  if (has_payload()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      1, this->payload(), output);
+  }
+
+  // required bool last = 2;
+  if (has_last()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(2, this->last(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FederateStateFrame::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required bytes payload = 1;
+  if (has_payload()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        1, this->payload(), target);
+  }
+
+  // required bool last = 2;
+  if (has_last()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(2, this->last(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FederateStateFrame::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required bytes payload = 1;
+    if (has_payload()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->payload());
+    }
+
+    // required bool last = 2;
+    if (has_last()) {
+      total_size += 1 + 1;
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FederateStateFrame::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FederateStateFrame* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FederateStateFrame*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FederateStateFrame::MergeFrom(const FederateStateFrame& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_payload()) {
+      set_payload(from.payload());
+    }
+    if (from.has_last()) {
+      set_last(from.last());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FederateStateFrame::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FederateStateFrame::CopyFrom(const FederateStateFrame& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FederateStateFrame::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void FederateStateFrame::Swap(FederateStateFrame* other) {
+  if (other != this) {
+    std::swap(payload_, other->payload_);
+    std::swap(last_, other->last_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FederateStateFrame::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FederateStateFrame_descriptor_;
+  metadata.reflection = FederateStateFrame_reflection_;
+  return metadata;
+}
+
+
+// @@protoc_insertion_point(namespace_scope)
+
+}  // namespace proto
+}  // namespace messages
+}  // namespace rti
+}  // namespace ohla
+
+// @@protoc_insertion_point(global_scope)
@@ -0,0 +1,808 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageProtos.proto
+
+#ifndef PROTOBUF_MessageProtos_2eproto__INCLUDED
+#define PROTOBUF_MessageProtos_2eproto__INCLUDED
+
+#include <string>
+
+#include <google/protobuf/stubs/common.h>
+
+#if GOOGLE_PROTOBUF_VERSION < 2005000
+#error This file was generated by a newer version of protoc which is
+#error incompatible with your Protocol Buffer headers.  Please update
+#error your headers.
+#endif
+#if 2005000 < GOOGLE_PROTOBUF_MIN_PROTOC_VERSION
+#error This file was generated by an older version of protoc which is
+#error incompatible with your Protocol Buffer headers.  Please
+#error regenerate this file with a newer version of protoc.
+#endif
+
+#include <google/protobuf/generated_message_util.h>
+#include <google/protobuf/message.h>
+#include <google/protobuf/repeated_field.h>
+#include <google/protobuf/extension_set.h>
+#include <google/protobuf/generated_enum_reflection.h>
+#include <google/protobuf/unknown_field_set.h>
+#include "OHLAProtos.pb.h"
+// @@protoc_insertion_point(includes)
+
+namespace ohla {
+namespace rti {
+namespace messages {
+namespace proto {
+
+// Internal implementation detail -- do not call these.
+void  protobuf_AddDesc_MessageProtos_2eproto();
+void protobuf_AssignDesc_MessageProtos_2eproto();
+void protobuf_ShutdownFile_MessageProtos_2eproto();
+
+class AttributeValue;
+class ParameterValue;
+class FederateStateFrame;
+
+enum MessageType {
+  FDD_UPDATED = 1,
+  CREATE_FEDERATION_EXECUTION = 2,
+  CREATE_FEDERATION_EXECUTION_RESPONSE = 3,
+  DESTROY_FEDERATION_EXECUTION = 4,
+  DESTROY_FEDERATION_EXECUTION_RESPONSE = 5,
+  LIST_FEDERATION_EXECUTIONS = 6,
+  JOIN_FEDERATION_EXECUTION = 7,
+  JOIN_FEDERATION_EXECUTION_RESPONSE = 8,
+  RESIGN_FEDERATION_EXECUTION = 9,
+  RESIGNED_FEDERATION_EXECUTION = 10,
+  REGISTER_FEDERATION_SYNCHRONIZATION_POINT = 11,
+  SYNCHRONIZATION_POINT_ACHIEVED = 12,
+  REQUEST_FEDERATION_SAVE = 13,
+  REQUEST_FEDERATION_SAVE_RESPONSE = 14,
+  FEDERATE_SAVE_BEGUN = 15,
+  FEDERATE_SAVE_COMPLETE = 16,
+  FEDERATE_SAVE_NOT_COMPLETE = 17,
+  ABORT_FEDERATION_SAVE = 18,
+  ABORT_FEDERATION_SAVE_RESPONSE = 19,
+  QUERY_FEDERATION_SAVE_STATUS = 20,
+  REQUEST_FEDERATION_RESTORE = 21,
+  REQUEST_FEDERATION_RESTORE_RESPONSE = 22,
+  FEDERATE_RESTORE_COMPLETE = 23,
+  FEDERATE_RESTORE_NOT_COMPLETE = 24,
+  ABORT_FEDERATION_RESTORE = 25,
+  ABORT_FEDERATION_RESTORE_RESPONSE = 26,
+  QUERY_FEDERATION_RESTORE_STATUS = 27,
+  PUBLISH_OBJECT_CLASS_ATTRIBUTES = 28,
+  UNPUBLISH_OBJECT_CLASS = 29,
+  UNPUBLISH_OBJECT_CLASS_ATTRIBUTES = 30,
+  PUBLISH_INTERACTION_CLASS = 31,
+  UNPUBLISH_INTERACTION_CLASS = 32,
+  SUBSCRIBE_OBJECT_CLASS_ATTRIBUTES = 33,
+  UNSUBSCRIBE_OBJECT_CLASS_ATTRIBUTES = 34,
+  SUBSCRIBE_INTERACTION_CLASS = 35,
+  UNSUBSCRIBE_INTERACTION_CLASS = 36,
+  RESERVE_OBJECT_INSTANCE_NAME = 37,
+  RELEASE_OBJECT_INSTANCE_NAME = 38,
+  RESERVE_MULTIPLE_OBJECT_INSTANCE_NAME = 39,
+  MULTIPLE_OBJECT_INSTANCE_NAME_RESERVATION_SUCCEEDED = 40,
+  MULTIPLE_OBJECT_INSTANCE_NAME_RESERVATION_FAILED = 41,
+  RELEASE_MULTIPLE_OBJECT_INSTANCE_NAME = 42,
+  REGISTER_OBJECT_INSTANCE = 43,
+  UPDATE_ATTRIBUTE_VALUES = 44,
+  SEND_INTERACTION = 45,
+  DELETE_OBJECT_INSTANCE = 46,
+  LOCAL_DELETE_OBJECT_INSTANCE = 47,
+  REQUEST_OBJECT_INSTANCE_ATTRIBUTE_VALUE_UPDATE = 48,
+  REQUEST_OBJECT_CLASS_ATTRIBUTE_VALUE_UPDATE = 49,
+  REQUEST_OBJECT_CLASS_ATTRIBUTE_VALUE_UPDATE_WITH_REGIONS = 50,
+  SET_AUTOMATIC_RESIGN_DIRECTIVE = 51,
+  GET_FEDERATE_HANDLE = 52,
+  GET_FEDERATE_HANDLE_RESPONSE = 53,
+  GET_FEDERATE_NAME = 54,
+  GET_FEDERATE_NAME_RESPONSE = 55,
+  GET_UPDATE_RATE_VALUE_FOR_ATTRIBUTE = 56,
+  GET_UPDATE_RATE_VALUE_FOR_ATTRIBUTE_RESPONSE = 57,
+  QUERY_INTERACTION_TRANSPORTATION_TYPE = 58,
+  REPORT_INTERACTION_TRANSPORTATION_TYPE = 59,
+  UNCONDITIONAL_ATTRIBUTE_OWNERSHIP_DIVESTITURE = 60,
+  NEGOTIATED_ATTRIBUTE_OWNERSHIP_DIVESTITURE = 61,
+  CONFIRM_DIVESTITURE = 62,
+  ATTRIBUTE_OWNERSHIP_ACQUISITION = 63,
+  ATTRIBUTE_OWNERSHIP_ACQUISITION_IF_AVAILABLE = 64,
+  ATTRIBUTE_OWNERSHIP_DIVESTITURE_IF_WANTED = 65,
+  ATTRIBUTE_OWNERSHIP_DIVESTITURE_IF_WANTED_RESPONSE = 66,
+  CANCEL_NEGOTIATED_ATTRIBUTE_OWNERSHIP_DIVESTITURE = 67,
+  CANCEL_ATTRIBUTE_OWNERSHIP_ACQUISITION = 68,
+  QUERY_ATTRIBUTE_OWNERSHIP = 69,
+  ENABLE_TIME_REGULATION = 70,
+  DISABLE_TIME_REGULATION = 71,
+  ENABLE_TIME_CONSTRAINED = 72,
+  DISABLE_TIME_CONSTRAINED = 73,
+  TIME_ADVANCE_REQUEST = 74,
+  TIME_ADVANCE_REQUEST_AVAILABLE = 75,
+  NEXT_MESSAGE_REQUEST = 76,
+  NEXT_MESSAGE_REQUEST_AVAILABLE = 77,
+  FLUSH_QUEUE_REQUEST = 78,
+  QUERY_GALT = 79,
+  QUERY_GALT_RESPONSE = 80,
+  QUERY_LITS = 81,
+  QUERY_LITS_RESPONSE = 82,
+  MODIFY_LOOKAHEAD = 83,
+  RETRACT = 84,
+  RETRACT_RESPONSE = 85,
+  CREATE_REGION = 86,
+  COMMIT_REGION_MODIFICATIONS = 87,
+  DELETE_REGION = 88,
+  ASSOCIATE_REGIONS_FOR_UPDATES = 89,
+  ASSOCIATE_REGIONS_FOR_UPDATES_RESPONSE = 90,
+  UNASSOCIATE_REGIONS_FOR_UPDATES = 91,
+  UNASSOCIATE_REGIONS_FOR_UPDATES_RESPONSE = 92,
+  SUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_WITH_REGIONS = 93,
+  UNSUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_WITH_REGIONS = 94,
+  SUBSCRIBE_INTERACTION_CLASS_WITH_REGIONS = 95,
+  UNSUBSCRIBE_INTERACTION_CLASS_WITH_REGIONS = 96,
+  REPORT_FEDERATION_EXECUTIONS = 97,
+  SYNCHRONIZATION_POINT_REGISTRATION_SUCCEEDED = 98,
+  SYNCHRONIZATION_POINT_REGISTRATION_FAILED = 99,
+  ANNOUNCE_SYNCHRONIZATION_POINT = 100,
+  FEDERATION_SYNCHRONIZED = 101,
+  INITIATE_FEDERATE_SAVE = 102,
+  FEDERATION_SAVED = 103,
+  FEDERATION_NOT_SAVED = 104,
+  FEDERATION_SAVE_STATUS_RESPONSE = 105,
+  REQUEST_FEDERATION_RESTORE_SUCCEEDED = 106,
+  REQUEST_FEDERATION_RESTORE_FAILED = 107,
+  FEDERATION_RESTORE_BEGUN = 108,
+  INITIATE_FEDERATE_RESTORE = 109,
+  FEDERATION_RESTORED = 110,
+  FEDERATION_NOT_RESTORED = 111,
+  FEDERATION_RESTORE_STATUS_RESPONSE = 112,
+  START_REGISTRATION_FOR_OBJECT_CLASS = 113,
+  STOP_REGISTRATION_FOR_OBJECT_CLASS = 114,
+  TURN_INTERACTIONS_ON = 115,
+  TURN_INTERACTIONS_OFF = 116,
+  OBJECT_INSTANCE_NAME_RESERVATION_SUCCEEDED = 117,
+  OBJECT_INSTANCE_NAME_RESERVATION_FAILED = 118,
+  DISCOVER_OBJECT_INSTANCE = 119,
+  REFLECT_ATTRIBUTE_VALUES = 120,
+  REMOVE_OBJECT_INSTANCE = 121,
+  ATTRIBUTES_IN_SCOPE = 122,
+  ATTRIBUTES_OUT_OF_SCOPE = 123,
+  PROVIDE_ATTRIBUTE_VALUE_UPDATE = 124,
+  TURN_UPDATES_ON_FOR_OBJECT_INSTANCE = 125,
+  TURN_UPDATES_OFF_FOR_OBJECT_INSTANCE = 126,
+  RECEIVE_INTERACTION = 127,
+  REQUEST_ATTRIBUTE_OWNERSHIP_ASSUMPTION = 128,
+  REQUEST_DIVESTITURE_CONFIRMATION = 129,
+  ATTRIBUTE_OWNERSHIP_ACQUISITION_NOTIFICATION = 130,
+  ATTRIBUTE_OWNERSHIP_UNAVAILABLE = 131,
+  REQUEST_ATTRIBUTE_OWNERSHIP_RELEASE = 132,
+  CONFIRM_ATTRIBUTE_OWNERSHIP_ACQUISITION_CANCELLATION = 133,
+  INFORM_ATTRIBUTE_OWNERSHIP = 134,
+  ATTRIBUTE_IS_NOT_OWNED = 135,
+  ATTRIBUTE_IS_OWNED_BY_RTI = 136,
+  TIME_REGULATION_ENABLED = 137,
+  TIME_CONSTRAINED_ENABLED = 138,
+  TIME_ADVANCE_GRANT = 139,
+  REQUEST_RETRACTION = 140,
+  FEDERATE_STATE_FRAME = 141
+};
+bool MessageType_IsValid(int value);
+const MessageType MessageType_MIN = FDD_UPDATED;
+const MessageType MessageType_MAX = FEDERATE_STATE_FRAME;
+const int MessageType_ARRAYSIZE = MessageType_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* MessageType_descriptor();
+inline const ::std::string& MessageType_Name(MessageType value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    MessageType_descriptor(), value);
+}
+inline bool MessageType_Parse(
+    const ::std::string& name, MessageType* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<MessageType>(
+    MessageType_descriptor(), name, value);
+}
+// ===================================================================
+
+class AttributeValue : public ::google::protobuf::Message {
+ public:
+  AttributeValue();
+  virtual ~AttributeValue();
+
+  AttributeValue(const AttributeValue& from);
+
+  inline AttributeValue& operator=(const AttributeValue& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AttributeValue& default_instance();
+
+  void Swap(AttributeValue* other);
+
+  // implements Message ----------------------------------------------
+
+  AttributeValue* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AttributeValue& from);
+  void MergeFrom(const AttributeValue& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 attributeHandle = 1;
+  inline bool has_attributehandle() const;
+  inline void clear_attributehandle();
+  static const int kAttributeHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 attributehandle() const;
+  inline void set_attributehandle(::google::protobuf::uint32 value);
+
+  // required bytes value = 2;
+  inline bool has_value() const;
+  inline void clear_value();
+  static const int kValueFieldNumber = 2;
+  inline const ::std::string& value() const;
+  inline void set_value(const ::std::string& value);
+  inline void set_value(const char* value);
+  inline void set_value(const void* value, size_t size);
+  inline ::std::string* mutable_value();
+  inline ::std::string* release_value();
+  inline void set_allocated_value(::std::string* value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AttributeValue)
+ private:
+  inline void set_has_attributehandle();
+  inline void clear_has_attributehandle();
+  inline void set_has_value();
+  inline void clear_has_value();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* value_;
+  ::google::protobuf::uint32 attributehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_MessageProtos_2eproto();
+  friend void protobuf_AssignDesc_MessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_MessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AttributeValue* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ParameterValue : public ::google::protobuf::Message {
+ public:
+  ParameterValue();
+  virtual ~ParameterValue();
+
+  ParameterValue(const ParameterValue& from);
+
+  inline ParameterValue& operator=(const ParameterValue& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ParameterValue& default_instance();
+
+  void Swap(ParameterValue* other);
+
+  // implements Message ----------------------------------------------
+
+  ParameterValue* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ParameterValue& from);
+  void MergeFrom(const ParameterValue& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 parameterHandle = 1;
+  inline bool has_parameterhandle() const;
+  inline void clear_parameterhandle();
+  static const int kParameterHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 parameterhandle() const;
+  inline void set_parameterhandle(::google::protobuf::uint32 value);
+
+  // required bytes value = 2;
+  inline bool has_value() const;
+  inline void clear_value();
+  static const int kValueFieldNumber = 2;
+  inline const ::std::string& value() const;
+  inline void set_value(const ::std::string& value);
+  inline void set_value(const char* value);
+  inline void set_value(const void* value, size_t size);
+  inline ::std::string* mutable_value();
+  inline ::std::string* release_value();
+  inline void set_allocated_value(::std::string* value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ParameterValue)
+ private:
+  inline void set_has_parameterhandle();
+  inline void clear_has_parameterhandle();
+  inline void set_has_value();
+  inline void clear_has_value();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* value_;
+  ::google::protobuf::uint32 parameterhandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_MessageProtos_2eproto();
+  friend void protobuf_AssignDesc_MessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_MessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ParameterValue* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FederateStateFrame : public ::google::protobuf::Message {
+ public:
+  FederateStateFrame();
+  virtual ~FederateStateFrame();
+
+  FederateStateFrame(const FederateStateFrame& from);
+
+  inline FederateStateFrame& operator=(const FederateStateFrame& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FederateStateFrame& default_instance();
+
+  void Swap(FederateStateFrame* other);
+
+  // implements Message ----------------------------------------------
+
+  FederateStateFrame* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FederateStateFrame& from);
+  void MergeFrom(const FederateStateFrame& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required bytes payload = 1;
+  inline bool has_payload() const;
+  inline void clear_payload();
+  static const int kPayloadFieldNumber = 1;
+  inline const ::std::string& payload() const;
+  inline void set_payload(const ::std::string& value);
+  inline void set_payload(const char* value);
+  inline void set_payload(const void* value, size_t size);
+  inline ::std::string* mutable_payload();
+  inline ::std::string* release_payload();
+  inline void set_allocated_payload(::std::string* payload);
+
+  // required bool last = 2;
+  inline bool has_last() const;
+  inline void clear_last();
+  static const int kLastFieldNumber = 2;
+  inline bool last() const;
+  inline void set_last(bool value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederateStateFrame)
+ private:
+  inline void set_has_payload();
+  inline void clear_has_payload();
+  inline void set_has_last();
+  inline void clear_has_last();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* payload_;
+  bool last_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_MessageProtos_2eproto();
+  friend void protobuf_AssignDesc_MessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_MessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FederateStateFrame* default_instance_;
+};
+// ===================================================================
+
+
+// ===================================================================
+
+// AttributeValue
+
+// required uint32 attributeHandle = 1;
+inline bool AttributeValue::has_attributehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AttributeValue::set_has_attributehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AttributeValue::clear_has_attributehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AttributeValue::clear_attributehandle() {
+  attributehandle_ = 0u;
+  clear_has_attributehandle();
+}
+inline ::google::protobuf::uint32 AttributeValue::attributehandle() const {
+  return attributehandle_;
+}
+inline void AttributeValue::set_attributehandle(::google::protobuf::uint32 value) {
+  set_has_attributehandle();
+  attributehandle_ = value;
+}
+
+// required bytes value = 2;
+inline bool AttributeValue::has_value() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void AttributeValue::set_has_value() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void AttributeValue::clear_has_value() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void AttributeValue::clear_value() {
+  if (value_ != &::google::protobuf::internal::kEmptyString) {
+    value_->clear();
+  }
+  clear_has_value();
+}
+inline const ::std::string& AttributeValue::value() const {
+  return *value_;
+}
+inline void AttributeValue::set_value(const ::std::string& value) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  value_->assign(value);
+}
+inline void AttributeValue::set_value(const char* value) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  value_->assign(value);
+}
+inline void AttributeValue::set_value(const void* value, size_t size) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  value_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* AttributeValue::mutable_value() {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  return value_;
+}
+inline ::std::string* AttributeValue::release_value() {
+  clear_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = value_;
+    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void AttributeValue::set_allocated_value(::std::string* value) {
+  if (value_ != &::google::protobuf::internal::kEmptyString) {
+    delete value_;
+  }
+  if (value) {
+    set_has_value();
+    value_ = value;
+  } else {
+    clear_has_value();
+    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// ParameterValue
+
+// required uint32 parameterHandle = 1;
+inline bool ParameterValue::has_parameterhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ParameterValue::set_has_parameterhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ParameterValue::clear_has_parameterhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ParameterValue::clear_parameterhandle() {
+  parameterhandle_ = 0u;
+  clear_has_parameterhandle();
+}
+inline ::google::protobuf::uint32 ParameterValue::parameterhandle() const {
+  return parameterhandle_;
+}
+inline void ParameterValue::set_parameterhandle(::google::protobuf::uint32 value) {
+  set_has_parameterhandle();
+  parameterhandle_ = value;
+}
+
+// required bytes value = 2;
+inline bool ParameterValue::has_value() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void ParameterValue::set_has_value() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void ParameterValue::clear_has_value() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void ParameterValue::clear_value() {
+  if (value_ != &::google::protobuf::internal::kEmptyString) {
+    value_->clear();
+  }
+  clear_has_value();
+}
+inline const ::std::string& ParameterValue::value() const {
+  return *value_;
+}
+inline void ParameterValue::set_value(const ::std::string& value) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  value_->assign(value);
+}
+inline void ParameterValue::set_value(const char* value) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  value_->assign(value);
+}
+inline void ParameterValue::set_value(const void* value, size_t size) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  value_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* ParameterValue::mutable_value() {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  return value_;
+}
+inline ::std::string* ParameterValue::release_value() {
+  clear_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = value_;
+    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void ParameterValue::set_allocated_value(::std::string* value) {
+  if (value_ != &::google::protobuf::internal::kEmptyString) {
+    delete value_;
+  }
+  if (value) {
+    set_has_value();
+    value_ = value;
+  } else {
+    clear_has_value();
+    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// FederateStateFrame
+
+// required bytes payload = 1;
+inline bool FederateStateFrame::has_payload() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FederateStateFrame::set_has_payload() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FederateStateFrame::clear_has_payload() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FederateStateFrame::clear_payload() {
+  if (payload_ != &::google::protobuf::internal::kEmptyString) {
+    payload_->clear();
+  }
+  clear_has_payload();
+}
+inline const ::std::string& FederateStateFrame::payload() const {
+  return *payload_;
+}
+inline void FederateStateFrame::set_payload(const ::std::string& value) {
+  set_has_payload();
+  if (payload_ == &::google::protobuf::internal::kEmptyString) {
+    payload_ = new ::std::string;
+  }
+  payload_->assign(value);
+}
+inline void FederateStateFrame::set_payload(const char* value) {
+  set_has_payload();
+  if (payload_ == &::google::protobuf::internal::kEmptyString) {
+    payload_ = new ::std::string;
+  }
+  payload_->assign(value);
+}
+inline void FederateStateFrame::set_payload(const void* value, size_t size) {
+  set_has_payload();
+  if (payload_ == &::google::protobuf::internal::kEmptyString) {
+    payload_ = new ::std::string;
+  }
+  payload_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FederateStateFrame::mutable_payload() {
+  set_has_payload();
+  if (payload_ == &::google::protobuf::internal::kEmptyString) {
+    payload_ = new ::std::string;
+  }
+  return payload_;
+}
+inline ::std::string* FederateStateFrame::release_payload() {
+  clear_has_payload();
+  if (payload_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = payload_;
+    payload_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FederateStateFrame::set_allocated_payload(::std::string* payload) {
+  if (payload_ != &::google::protobuf::internal::kEmptyString) {
+    delete payload_;
+  }
+  if (payload) {
+    set_has_payload();
+    payload_ = payload;
+  } else {
+    clear_has_payload();
+    payload_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required bool last = 2;
+inline bool FederateStateFrame::has_last() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FederateStateFrame::set_has_last() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FederateStateFrame::clear_has_last() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FederateStateFrame::clear_last() {
+  last_ = false;
+  clear_has_last();
+}
+inline bool FederateStateFrame::last() const {
+  return last_;
+}
+inline void FederateStateFrame::set_last(bool value) {
+  set_has_last();
+  last_ = value;
+}
+
+
+// @@protoc_insertion_point(namespace_scope)
+
+}  // namespace proto
+}  // namespace messages
+}  // namespace rti
+}  // namespace ohla
+
+#ifndef SWIG
+namespace google {
+namespace protobuf {
+
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::messages::proto::MessageType>() {
+  return ::ohla::rti::messages::proto::MessageType_descriptor();
+}
+
+}  // namespace google
+}  // namespace protobuf
+#endif  // SWIG
+
+// @@protoc_insertion_point(global_scope)
+
+#endif  // PROTOBUF_MessageProtos_2eproto__INCLUDED
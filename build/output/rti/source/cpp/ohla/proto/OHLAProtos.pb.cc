@@ -0,0 +1,6212 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: OHLAProtos.proto
+
+#define INTERNAL_SUPPRESS_PROTOBUF_FIELD_DEPRECATION
+#include "OHLAProtos.pb.h"
+
+#include <algorithm>
+
+#include <google/protobuf/stubs/common.h>
+#include <google/protobuf/stubs/once.h>
+#include <google/protobuf/io/coded_stream.h>
+#include <google/protobuf/wire_format_lite_inl.h>
+#include <google/protobuf/descriptor.h>
+#include <google/protobuf/generated_message_reflection.h>
+#include <google/protobuf/reflection_ops.h>
+#include <google/protobuf/wire_format.h>
+// @@protoc_insertion_point(includes)
+
+namespace ohla {
+namespace rti {
+namespace proto {
+
+namespace {
+
+const ::google::protobuf::Descriptor* MessageRetractionHandle_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  MessageRetractionHandle_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ObjectInstanceHandle_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ObjectInstanceHandle_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RegionHandle_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RegionHandle_reflection_ = NULL;
+const ::google::protobuf::Descriptor* DimensionRangeBound_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  DimensionRangeBound_reflection_ = NULL;
+const ::google::protobuf::Descriptor* PublishedObjectClass_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  PublishedObjectClass_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RegionSubscription_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RegionSubscription_reflection_ = NULL;
+const ::google::protobuf::Descriptor* AttributeSubscription_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  AttributeSubscription_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ObjectClassSubscription_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ObjectClassSubscription_reflection_ = NULL;
+const ::google::protobuf::Descriptor* InteractionClassSubscription_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  InteractionClassSubscription_reflection_ = NULL;
+const ::google::protobuf::Descriptor* SubscriptionManagerState_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  SubscriptionManagerState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FDD_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FDD_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FDD_Dimension_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FDD_Dimension_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FDD_ObjectClass_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FDD_ObjectClass_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FDD_ObjectClass_Attribute_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FDD_ObjectClass_Attribute_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FDD_InteractionClass_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FDD_InteractionClass_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FDD_InteractionClass_Parameter_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FDD_InteractionClass_Parameter_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FDD_FED_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FDD_FED_reflection_ = NULL;
+const ::google::protobuf::Descriptor* FDD_FED_RoutingSpace_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  FDD_FED_RoutingSpace_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* AdvanceRequestType_descriptor_ = NULL;
+const ::google::protobuf::EnumDescriptor* OrderType_descriptor_ = NULL;
+const ::google::protobuf::EnumDescriptor* ResignAction_descriptor_ = NULL;
+
+}  // namespace
+
+
+void protobuf_AssignDesc_OHLAProtos_2eproto() {
+  protobuf_AddDesc_OHLAProtos_2eproto();
+  const ::google::protobuf::FileDescriptor* file =
+    ::google::protobuf::DescriptorPool::generated_pool()->FindFileByName(
+      "OHLAProtos.proto");
+  GOOGLE_CHECK(file != NULL);
+  MessageRetractionHandle_descriptor_ = file->message_type(0);
+  static const int MessageRetractionHandle_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MessageRetractionHandle, federatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MessageRetractionHandle, messageretractionhandle_),
+  };
+  MessageRetractionHandle_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      MessageRetractionHandle_descriptor_,
+      MessageRetractionHandle::default_instance_,
+      MessageRetractionHandle_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MessageRetractionHandle, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MessageRetractionHandle, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(MessageRetractionHandle));
+  ObjectInstanceHandle_descriptor_ = file->message_type(1);
+  static const int ObjectInstanceHandle_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectInstanceHandle, federatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectInstanceHandle, objectinstancehandle_),
+  };
+  ObjectInstanceHandle_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ObjectInstanceHandle_descriptor_,
+      ObjectInstanceHandle::default_instance_,
+      ObjectInstanceHandle_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectInstanceHandle, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectInstanceHandle, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ObjectInstanceHandle));
+  RegionHandle_descriptor_ = file->message_type(2);
+  static const int RegionHandle_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegionHandle, federatehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegionHandle, regionhandle_),
+  };
+  RegionHandle_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RegionHandle_descriptor_,
+      RegionHandle::default_instance_,
+      RegionHandle_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegionHandle, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegionHandle, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RegionHandle));
+  DimensionRangeBound_descriptor_ = file->message_type(3);
+  static const int DimensionRangeBound_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DimensionRangeBound, dimensionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DimensionRangeBound, lowerbound_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DimensionRangeBound, upperbound_),
+  };
+  DimensionRangeBound_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      DimensionRangeBound_descriptor_,
+      DimensionRangeBound::default_instance_,
+      DimensionRangeBound_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DimensionRangeBound, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DimensionRangeBound, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(DimensionRangeBound));
+  PublishedObjectClass_descriptor_ = file->message_type(4);
+  static const int PublishedObjectClass_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PublishedObjectClass, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PublishedObjectClass, attributehandles_),
+  };
+  PublishedObjectClass_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      PublishedObjectClass_descriptor_,
+      PublishedObjectClass::default_instance_,
+      PublishedObjectClass_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PublishedObjectClass, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PublishedObjectClass, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(PublishedObjectClass));
+  RegionSubscription_descriptor_ = file->message_type(5);
+  static const int RegionSubscription_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegionSubscription, regionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegionSubscription, passive_),
+  };
+  RegionSubscription_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RegionSubscription_descriptor_,
+      RegionSubscription::default_instance_,
+      RegionSubscription_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegionSubscription, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegionSubscription, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RegionSubscription));
+  AttributeSubscription_descriptor_ = file->message_type(6);
+  static const int AttributeSubscription_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeSubscription, attributehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeSubscription, defaultregionsubscribed_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeSubscription, defaultregionsubscriptionpassive_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeSubscription, regionsubscriptions_),
+  };
+  AttributeSubscription_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      AttributeSubscription_descriptor_,
+      AttributeSubscription::default_instance_,
+      AttributeSubscription_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeSubscription, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(AttributeSubscription, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(AttributeSubscription));
+  ObjectClassSubscription_descriptor_ = file->message_type(7);
+  static const int ObjectClassSubscription_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectClassSubscription, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectClassSubscription, attributesubscription_),
+  };
+  ObjectClassSubscription_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ObjectClassSubscription_descriptor_,
+      ObjectClassSubscription::default_instance_,
+      ObjectClassSubscription_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectClassSubscription, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectClassSubscription, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ObjectClassSubscription));
+  InteractionClassSubscription_descriptor_ = file->message_type(8);
+  static const int InteractionClassSubscription_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InteractionClassSubscription, interactionclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InteractionClassSubscription, defaultregionsubscribed_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InteractionClassSubscription, defaultregionsubscriptionpassive_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InteractionClassSubscription, regionsubscriptions_),
+  };
+  InteractionClassSubscription_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      InteractionClassSubscription_descriptor_,
+      InteractionClassSubscription::default_instance_,
+      InteractionClassSubscription_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InteractionClassSubscription, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InteractionClassSubscription, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(InteractionClassSubscription));
+  SubscriptionManagerState_descriptor_ = file->message_type(9);
+  static const int SubscriptionManagerState_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscriptionManagerState, objectclasssubscriptions_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscriptionManagerState, interactionclasssubscriptions_),
+  };
+  SubscriptionManagerState_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      SubscriptionManagerState_descriptor_,
+      SubscriptionManagerState::default_instance_,
+      SubscriptionManagerState_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscriptionManagerState, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SubscriptionManagerState, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(SubscriptionManagerState));
+  FDD_descriptor_ = file->message_type(10);
+  static const int FDD_offsets_[5] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD, sources_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD, objectclasses_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD, interactionclasses_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD, dimensions_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD, fed_),
+  };
+  FDD_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FDD_descriptor_,
+      FDD::default_instance_,
+      FDD_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FDD));
+  FDD_Dimension_descriptor_ = FDD_descriptor_->nested_type(0);
+  static const int FDD_Dimension_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_Dimension, dimensionhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_Dimension, dimensionname_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_Dimension, upperbound_),
+  };
+  FDD_Dimension_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FDD_Dimension_descriptor_,
+      FDD_Dimension::default_instance_,
+      FDD_Dimension_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_Dimension, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_Dimension, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FDD_Dimension));
+  FDD_ObjectClass_descriptor_ = FDD_descriptor_->nested_type(1);
+  static const int FDD_ObjectClass_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_ObjectClass, objectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_ObjectClass, objectclassname_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_ObjectClass, superobjectclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_ObjectClass, attributes_),
+  };
+  FDD_ObjectClass_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FDD_ObjectClass_descriptor_,
+      FDD_ObjectClass::default_instance_,
+      FDD_ObjectClass_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_ObjectClass, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_ObjectClass, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FDD_ObjectClass));
+  FDD_ObjectClass_Attribute_descriptor_ = FDD_ObjectClass_descriptor_->nested_type(0);
+  static const int FDD_ObjectClass_Attribute_offsets_[5] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_ObjectClass_Attribute, attributehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_ObjectClass_Attribute, attributename_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_ObjectClass_Attribute, dimensionhandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_ObjectClass_Attribute, transportationtypehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_ObjectClass_Attribute, ordertype_),
+  };
+  FDD_ObjectClass_Attribute_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FDD_ObjectClass_Attribute_descriptor_,
+      FDD_ObjectClass_Attribute::default_instance_,
+      FDD_ObjectClass_Attribute_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_ObjectClass_Attribute, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_ObjectClass_Attribute, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FDD_ObjectClass_Attribute));
+  FDD_InteractionClass_descriptor_ = FDD_descriptor_->nested_type(2);
+  static const int FDD_InteractionClass_offsets_[7] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_InteractionClass, interactionclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_InteractionClass, interactionclassname_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_InteractionClass, superinteractionclasshandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_InteractionClass, dimensionhandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_InteractionClass, transportationtypehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_InteractionClass, ordertype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_InteractionClass, parameters_),
+  };
+  FDD_InteractionClass_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FDD_InteractionClass_descriptor_,
+      FDD_InteractionClass::default_instance_,
+      FDD_InteractionClass_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_InteractionClass, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_InteractionClass, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FDD_InteractionClass));
+  FDD_InteractionClass_Parameter_descriptor_ = FDD_InteractionClass_descriptor_->nested_type(0);
+  static const int FDD_InteractionClass_Parameter_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_InteractionClass_Parameter, parameterhandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_InteractionClass_Parameter, parametername_),
+  };
+  FDD_InteractionClass_Parameter_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FDD_InteractionClass_Parameter_descriptor_,
+      FDD_InteractionClass_Parameter::default_instance_,
+      FDD_InteractionClass_Parameter_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_InteractionClass_Parameter, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_InteractionClass_Parameter, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FDD_InteractionClass_Parameter));
+  FDD_FED_descriptor_ = FDD_descriptor_->nested_type(3);
+  static const int FDD_FED_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_FED, fedname_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_FED, routingspace_),
+  };
+  FDD_FED_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FDD_FED_descriptor_,
+      FDD_FED::default_instance_,
+      FDD_FED_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_FED, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_FED, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FDD_FED));
+  FDD_FED_RoutingSpace_descriptor_ = FDD_FED_descriptor_->nested_type(0);
+  static const int FDD_FED_RoutingSpace_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_FED_RoutingSpace, routingspacehandle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_FED_RoutingSpace, routingspacename_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_FED_RoutingSpace, dimensionhandles_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_FED_RoutingSpace, aliases_),
+  };
+  FDD_FED_RoutingSpace_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      FDD_FED_RoutingSpace_descriptor_,
+      FDD_FED_RoutingSpace::default_instance_,
+      FDD_FED_RoutingSpace_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_FED_RoutingSpace, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FDD_FED_RoutingSpace, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(FDD_FED_RoutingSpace));
+  AdvanceRequestType_descriptor_ = file->enum_type(0);
+  OrderType_descriptor_ = file->enum_type(1);
+  ResignAction_descriptor_ = file->enum_type(2);
+}
+
+namespace {
+
+GOOGLE_PROTOBUF_DECLARE_ONCE(protobuf_AssignDescriptors_once_);
+inline void protobuf_AssignDescriptorsOnce() {
+  ::google::protobuf::GoogleOnceInit(&protobuf_AssignDescriptors_once_,
+                 &protobuf_AssignDesc_OHLAProtos_2eproto);
+}
+
+void protobuf_RegisterTypes(const ::std::string&) {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    MessageRetractionHandle_descriptor_, &MessageRetractionHandle::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ObjectInstanceHandle_descriptor_, &ObjectInstanceHandle::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RegionHandle_descriptor_, &RegionHandle::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    DimensionRangeBound_descriptor_, &DimensionRangeBound::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    PublishedObjectClass_descriptor_, &PublishedObjectClass::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RegionSubscription_descriptor_, &RegionSubscription::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    AttributeSubscription_descriptor_, &AttributeSubscription::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ObjectClassSubscription_descriptor_, &ObjectClassSubscription::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    InteractionClassSubscription_descriptor_, &InteractionClassSubscription::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    SubscriptionManagerState_descriptor_, &SubscriptionManagerState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FDD_descriptor_, &FDD::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FDD_Dimension_descriptor_, &FDD_Dimension::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FDD_ObjectClass_descriptor_, &FDD_ObjectClass::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FDD_ObjectClass_Attribute_descriptor_, &FDD_ObjectClass_Attribute::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FDD_InteractionClass_descriptor_, &FDD_InteractionClass::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FDD_InteractionClass_Parameter_descriptor_, &FDD_InteractionClass_Parameter::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FDD_FED_descriptor_, &FDD_FED::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    FDD_FED_RoutingSpace_descriptor_, &FDD_FED_RoutingSpace::default_instance());
+}
+
+}  // namespace
+
+void protobuf_ShutdownFile_OHLAProtos_2eproto() {
+  delete MessageRetractionHandle::default_instance_;
+  delete MessageRetractionHandle_reflection_;
+  delete ObjectInstanceHandle::default_instance_;
+  delete ObjectInstanceHandle_reflection_;
+  delete RegionHandle::default_instance_;
+  delete RegionHandle_reflection_;
+  delete DimensionRangeBound::default_instance_;
+  delete DimensionRangeBound_reflection_;
+  delete PublishedObjectClass::default_instance_;
+  delete PublishedObjectClass_reflection_;
+  delete RegionSubscription::default_instance_;
+  delete RegionSubscription_reflection_;
+  delete AttributeSubscription::default_instance_;
+  delete AttributeSubscription_reflection_;
+  delete ObjectClassSubscription::default_instance_;
+  delete ObjectClassSubscription_reflection_;
+  delete InteractionClassSubscription::default_instance_;
+  delete InteractionClassSubscription_reflection_;
+  delete SubscriptionManagerState::default_instance_;
+  delete SubscriptionManagerState_reflection_;
+  delete FDD::default_instance_;
+  delete FDD_reflection_;
+  delete FDD_Dimension::default_instance_;
+  delete FDD_Dimension_reflection_;
+  delete FDD_ObjectClass::default_instance_;
+  delete FDD_ObjectClass_reflection_;
+  delete FDD_ObjectClass_Attribute::default_instance_;
+  delete FDD_ObjectClass_Attribute_reflection_;
+  delete FDD_InteractionClass::default_instance_;
+  delete FDD_InteractionClass_reflection_;
+  delete FDD_InteractionClass_Parameter::default_instance_;
+  delete FDD_InteractionClass_Parameter_reflection_;
+  delete FDD_FED::default_instance_;
+  delete FDD_FED_reflection_;
+  delete FDD_FED_RoutingSpace::default_instance_;
+  delete FDD_FED_RoutingSpace_reflection_;
+}
+
+void protobuf_AddDesc_OHLAProtos_2eproto() {
+  static bool already_here = false;
+  if (already_here) return;
+  already_here = true;
+  GOOGLE_PROTOBUF_VERIFY_VERSION;
+
+  ::google::protobuf::DescriptorPool::InternalAddGeneratedFile(
+    "\n\020OHLAProtos.proto\022\016ohla.rti.proto\"R\n\027Me"
+    "ssageRetractionHandle\022\026\n\016federateHandle\030"
+    "\001 \002(\r\022\037\n\027messageRetractionHandle\030\002 \002(\004\"L"
+    "\n\024ObjectInstanceHandle\022\026\n\016federateHandle"
+    "\030\001 \002(\r\022\034\n\024objectInstanceHandle\030\002 \002(\004\"<\n\014"
+    "RegionHandle\022\026\n\016federateHandle\030\001 \002(\r\022\024\n\014"
+    "regionHandle\030\002 \002(\r\"V\n\023DimensionRangeBoun"
+    "d\022\027\n\017dimensionHandle\030\001 \002(\r\022\022\n\nlowerBound"
+    "\030\002 \002(\004\022\022\n\nupperBound\030\003 \002(\004\"K\n\024PublishedO"
+    "bjectClass\022\031\n\021objectClassHandle\030\001 \002(\r\022\030\n"
+    "\020attributeHandles\030\002 \003(\r\"Y\n\022RegionSubscri"
+    "ption\0222\n\014regionHandle\030\001 \002(\0132\034.ohla.rti.p"
+    "roto.RegionHandle\022\017\n\007passive\030\002 \002(\010\"\274\001\n\025A"
+    "ttributeSubscription\022\027\n\017attributeHandle\030"
+    "\001 \002(\r\022\037\n\027defaultRegionSubscribed\030\002 \002(\010\022("
+    "\n defaultRegionSubscriptionPassive\030\003 \002(\010"
+    "\022\?\n\023regionSubscriptions\030\004 \003(\0132\".ohla.rti"
+    ".proto.RegionSubscription\"z\n\027ObjectClass"
+    "Subscription\022\031\n\021objectClassHandle\030\001 \002(\r\022"
+    "D\n\025attributeSubscription\030\002 \003(\0132%.ohla.rt"
+    "i.proto.AttributeSubscription\"\312\001\n\034Intera"
+    "ctionClassSubscription\022\036\n\026interactionCla"
+    "ssHandle\030\001 \002(\r\022\037\n\027defaultRegionSubscribe"
+    "d\030\002 \002(\010\022(\n defaultRegionSubscriptionPass"
+    "ive\030\003 \002(\010\022\?\n\023regionSubscriptions\030\004 \003(\0132\""
+    ".ohla.rti.proto.RegionSubscription\"\272\001\n\030S"
+    "ubscriptionManagerState\022I\n\030objectClassSu"
+    "bscriptions\030\001 \003(\0132\'.ohla.rti.proto.Objec"
+    "tClassSubscription\022S\n\035interactionClassSu"
+    "bscriptions\030\002 \003(\0132,.ohla.rti.proto.Inter"
+    "actionClassSubscription\"\256\t\n\003FDD\022\017\n\007sourc"
+    "es\030\001 \003(\t\0226\n\robjectClasses\030\002 \003(\0132\037.ohla.r"
+    "ti.proto.FDD.ObjectClass\022@\n\022interactionC"
+    "lasses\030\003 \003(\0132$.ohla.rti.proto.FDD.Intera"
+    "ctionClass\0221\n\ndimensions\030\004 \003(\0132\035.ohla.rt"
+    "i.proto.FDD.Dimension\022$\n\003fed\030\005 \002(\0132\027.ohl"
+    "a.rti.proto.FDD.FED\032O\n\tDimension\022\027\n\017dime"
+    "nsionHandle\030\001 \002(\r\022\025\n\rdimensionName\030\002 \002(\t"
+    "\022\022\n\nupperBound\030\003 \002(\004\032\310\002\n\013ObjectClass\022\031\n\021"
+    "objectClassHandle\030\001 \002(\r\022\027\n\017objectClassNa"
+    "me\030\002 \002(\t\022\036\n\026superObjectClassHandle\030\003 \001(\r"
+    "\022=\n\nattributes\030\004 \003(\0132).ohla.rti.proto.FD"
+    "D.ObjectClass.Attribute\032\245\001\n\tAttribute\022\027\n"
+    "\017attributeHandle\030\001 \002(\r\022\025\n\rattributeName\030"
+    "\002 \002(\t\022\030\n\020dimensionHandles\030\003 \003(\r\022 \n\030trans"
+    "portationTypeHandle\030\004 \002(\r\022,\n\torderType\030\005"
+    " \002(\0162\031.ohla.rti.proto.OrderType\032\340\002\n\020Inte"
+    "ractionClass\022\036\n\026interactionClassHandle\030\001"
+    " \002(\r\022\034\n\024interactionClassName\030\002 \002(\t\022#\n\033su"
+    "perInteractionClassHandle\030\003 \001(\r\022\030\n\020dimen"
+    "sionHandles\030\004 \003(\r\022 \n\030transportationTypeH"
+    "andle\030\005 \002(\r\022,\n\torderType\030\006 \002(\0162\031.ohla.rt"
+    "i.proto.OrderType\022B\n\nparameters\030\007 \003(\0132.."
+    "ohla.rti.proto.FDD.InteractionClass.Para"
+    "meter\032;\n\tParameter\022\027\n\017parameterHandle\030\001 "
+    "\002(\r\022\025\n\rparameterName\030\002 \002(\t\032\303\001\n\003FED\022\017\n\007fe"
+    "dName\030\001 \001(\t\022:\n\014routingSpace\030\002 \003(\0132$.ohla"
+    ".rti.proto.FDD.FED.RoutingSpace\032o\n\014Routi"
+    "ngSpace\022\032\n\022routingSpaceHandle\030\001 \002(\r\022\030\n\020r"
+    "outingSpaceName\030\002 \002(\t\022\030\n\020dimensionHandle"
+    "s\030\003 \003(\r\022\017\n\007aliases\030\004 \003(\t*\263\001\n\022AdvanceRequ"
+    "estType\022\010\n\004NONE\020\001\022\030\n\024TIME_ADVANCE_REQUES"
+    "T\020\002\022\"\n\036TIME_ADVANCE_REQUEST_AVAILABLE\020\003\022"
+    "\030\n\024NEXT_MESSAGE_REQUEST\020\004\022\"\n\036NEXT_MESSAG"
+    "E_REQUEST_AVAILABLE\020\005\022\027\n\023FLUSH_QUEUE_REQ"
+    "UEST\020\006*\'\n\tOrderType\022\013\n\007RECEIVE\020\001\022\r\n\tTIME"
+    "STAMP\020\002*\307\001\n\014ResignAction\022%\n!UNCONDITIONA"
+    "LLY_DIVEST_ATTRIBUTES\020\001\022\022\n\016DELETE_OBJECT"
+    "S\020\002\022)\n%CANCEL_PENDING_OWNERSHIP_ACQUISIT"
+    "IONS\020\003\022\036\n\032DELETE_OBJECTS_THEN_DIVEST\020\004\022\""
+    "\n\036CANCEL_THEN_DELETE_THEN_DIVEST\020\005\022\r\n\tNO"
+    "_ACTION\020\006B\027\n\025net.sf.ohla.rti.proto", 2874);
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
+    "OHLAProtos.proto", &protobuf_RegisterTypes);
+  MessageRetractionHandle::default_instance_ = new MessageRetractionHandle();
+  ObjectInstanceHandle::default_instance_ = new ObjectInstanceHandle();
+  RegionHandle::default_instance_ = new RegionHandle();
+  DimensionRangeBound::default_instance_ = new DimensionRangeBound();
+  PublishedObjectClass::default_instance_ = new PublishedObjectClass();
+  RegionSubscription::default_instance_ = new RegionSubscription();
+  AttributeSubscription::default_instance_ = new AttributeSubscription();
+  ObjectClassSubscription::default_instance_ = new ObjectClassSubscription();
+  InteractionClassSubscription::default_instance_ = new InteractionClassSubscription();
+  SubscriptionManagerState::default_instance_ = new SubscriptionManagerState();
+  FDD::default_instance_ = new FDD();
+  FDD_Dimension::default_instance_ = new FDD_Dimension();
+  FDD_ObjectClass::default_instance_ = new FDD_ObjectClass();
+  FDD_ObjectClass_Attribute::default_instance_ = new FDD_ObjectClass_Attribute();
+  FDD_InteractionClass::default_instance_ = new FDD_InteractionClass();
+  FDD_InteractionClass_Parameter::default_instance_ = new FDD_InteractionClass_Parameter();
+  FDD_FED::default_instance_ = new FDD_FED();
+  FDD_FED_RoutingSpace::default_instance_ = new FDD_FED_RoutingSpace();
+  MessageRetractionHandle::default_instance_->InitAsDefaultInstance();
+  ObjectInstanceHandle::default_instance_->InitAsDefaultInstance();
+  RegionHandle::default_instance_->InitAsDefaultInstance();
+  DimensionRangeBound::default_instance_->InitAsDefaultInstance();
+  PublishedObjectClass::default_instance_->InitAsDefaultInstance();
+  RegionSubscription::default_instance_->InitAsDefaultInstance();
+  AttributeSubscription::default_instance_->InitAsDefaultInstance();
+  ObjectClassSubscription::default_instance_->InitAsDefaultInstance();
+  InteractionClassSubscription::default_instance_->InitAsDefaultInstance();
+  SubscriptionManagerState::default_instance_->InitAsDefaultInstance();
+  FDD::default_instance_->InitAsDefaultInstance();
+  FDD_Dimension::default_instance_->InitAsDefaultInstance();
+  FDD_ObjectClass::default_instance_->InitAsDefaultInstance();
+  FDD_ObjectClass_Attribute::default_instance_->InitAsDefaultInstance();
+  FDD_InteractionClass::default_instance_->InitAsDefaultInstance();
+  FDD_InteractionClass_Parameter::default_instance_->InitAsDefaultInstance();
+  FDD_FED::default_instance_->InitAsDefaultInstance();
+  FDD_FED_RoutingSpace::default_instance_->InitAsDefaultInstance();
+  ::google::protobuf::internal::OnShutdown(&protobuf_ShutdownFile_OHLAProtos_2eproto);
+}
+
+// Force AddDescriptors() to be called at static initialization time.
+struct StaticDescriptorInitializer_OHLAProtos_2eproto {
+  StaticDescriptorInitializer_OHLAProtos_2eproto() {
+    protobuf_AddDesc_OHLAProtos_2eproto();
+  }
+} static_descriptor_initializer_OHLAProtos_2eproto_;
+const ::google::protobuf::EnumDescriptor* AdvanceRequestType_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AdvanceRequestType_descriptor_;
+}
+bool AdvanceRequestType_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+    case 3:
+    case 4:
+    case 5:
+    case 6:
+      return true;
+    default:
+      return false;
+  }
+}
+
+const ::google::protobuf::EnumDescriptor* OrderType_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return OrderType_descriptor_;
+}
+bool OrderType_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+      return true;
+    default:
+      return false;
+  }
+}
+
+const ::google::protobuf::EnumDescriptor* ResignAction_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ResignAction_descriptor_;
+}
+bool ResignAction_IsValid(int value) {
+  switch(value) {
+    case 1:
+    case 2:
+    case 3:
+    case 4:
+    case 5:
+    case 6:
+      return true;
+    default:
+      return false;
+  }
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int MessageRetractionHandle::kFederateHandleFieldNumber;
+const int MessageRetractionHandle::kMessageRetractionHandleFieldNumber;
+#endif  // !_MSC_VER
+
+MessageRetractionHandle::MessageRetractionHandle()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void MessageRetractionHandle::InitAsDefaultInstance() {
+}
+
+MessageRetractionHandle::MessageRetractionHandle(const MessageRetractionHandle& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void MessageRetractionHandle::SharedCtor() {
+  _cached_size_ = 0;
+  federatehandle_ = 0u;
+  messageretractionhandle_ = GOOGLE_ULONGLONG(0);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+MessageRetractionHandle::~MessageRetractionHandle() {
+  SharedDtor();
+}
+
+void MessageRetractionHandle::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void MessageRetractionHandle::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* MessageRetractionHandle::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return MessageRetractionHandle_descriptor_;
+}
+
+const MessageRetractionHandle& MessageRetractionHandle::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+MessageRetractionHandle* MessageRetractionHandle::default_instance_ = NULL;
+
+MessageRetractionHandle* MessageRetractionHandle::New() const {
+  return new MessageRetractionHandle;
+}
+
+void MessageRetractionHandle::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    federatehandle_ = 0u;
+    messageretractionhandle_ = GOOGLE_ULONGLONG(0);
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool MessageRetractionHandle::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 federateHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatehandle_)));
+          set_has_federatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_messageRetractionHandle;
+        break;
+      }
+
+      // required uint64 messageRetractionHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_messageRetractionHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &messageretractionhandle_)));
+          set_has_messageretractionhandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void MessageRetractionHandle::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 federateHandle = 1;
+  if (has_federatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->federatehandle(), output);
+  }
+
+  // required uint64 messageRetractionHandle = 2;
+  if (has_messageretractionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(2, this->messageretractionhandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* MessageRetractionHandle::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 federateHandle = 1;
+  if (has_federatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->federatehandle(), target);
+  }
+
+  // required uint64 messageRetractionHandle = 2;
+  if (has_messageretractionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(2, this->messageretractionhandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int MessageRetractionHandle::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 federateHandle = 1;
+    if (has_federatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatehandle());
+    }
+
+    // required uint64 messageRetractionHandle = 2;
+    if (has_messageretractionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->messageretractionhandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void MessageRetractionHandle::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const MessageRetractionHandle* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const MessageRetractionHandle*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void MessageRetractionHandle::MergeFrom(const MessageRetractionHandle& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_federatehandle()) {
+      set_federatehandle(from.federatehandle());
+    }
+    if (from.has_messageretractionhandle()) {
+      set_messageretractionhandle(from.messageretractionhandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void MessageRetractionHandle::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void MessageRetractionHandle::CopyFrom(const MessageRetractionHandle& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool MessageRetractionHandle::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void MessageRetractionHandle::Swap(MessageRetractionHandle* other) {
+  if (other != this) {
+    std::swap(federatehandle_, other->federatehandle_);
+    std::swap(messageretractionhandle_, other->messageretractionhandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata MessageRetractionHandle::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = MessageRetractionHandle_descriptor_;
+  metadata.reflection = MessageRetractionHandle_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ObjectInstanceHandle::kFederateHandleFieldNumber;
+const int ObjectInstanceHandle::kObjectInstanceHandleFieldNumber;
+#endif  // !_MSC_VER
+
+ObjectInstanceHandle::ObjectInstanceHandle()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ObjectInstanceHandle::InitAsDefaultInstance() {
+}
+
+ObjectInstanceHandle::ObjectInstanceHandle(const ObjectInstanceHandle& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ObjectInstanceHandle::SharedCtor() {
+  _cached_size_ = 0;
+  federatehandle_ = 0u;
+  objectinstancehandle_ = GOOGLE_ULONGLONG(0);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ObjectInstanceHandle::~ObjectInstanceHandle() {
+  SharedDtor();
+}
+
+void ObjectInstanceHandle::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void ObjectInstanceHandle::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ObjectInstanceHandle::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ObjectInstanceHandle_descriptor_;
+}
+
+const ObjectInstanceHandle& ObjectInstanceHandle::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+ObjectInstanceHandle* ObjectInstanceHandle::default_instance_ = NULL;
+
+ObjectInstanceHandle* ObjectInstanceHandle::New() const {
+  return new ObjectInstanceHandle;
+}
+
+void ObjectInstanceHandle::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    federatehandle_ = 0u;
+    objectinstancehandle_ = GOOGLE_ULONGLONG(0);
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ObjectInstanceHandle::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 federateHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatehandle_)));
+          set_has_federatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_objectInstanceHandle;
+        break;
+      }
+
+      // required uint64 objectInstanceHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_objectInstanceHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &objectinstancehandle_)));
+          set_has_objectinstancehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ObjectInstanceHandle::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 federateHandle = 1;
+  if (has_federatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->federatehandle(), output);
+  }
+
+  // required uint64 objectInstanceHandle = 2;
+  if (has_objectinstancehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(2, this->objectinstancehandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ObjectInstanceHandle::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 federateHandle = 1;
+  if (has_federatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->federatehandle(), target);
+  }
+
+  // required uint64 objectInstanceHandle = 2;
+  if (has_objectinstancehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(2, this->objectinstancehandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ObjectInstanceHandle::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 federateHandle = 1;
+    if (has_federatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatehandle());
+    }
+
+    // required uint64 objectInstanceHandle = 2;
+    if (has_objectinstancehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->objectinstancehandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ObjectInstanceHandle::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ObjectInstanceHandle* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ObjectInstanceHandle*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ObjectInstanceHandle::MergeFrom(const ObjectInstanceHandle& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_federatehandle()) {
+      set_federatehandle(from.federatehandle());
+    }
+    if (from.has_objectinstancehandle()) {
+      set_objectinstancehandle(from.objectinstancehandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ObjectInstanceHandle::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ObjectInstanceHandle::CopyFrom(const ObjectInstanceHandle& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ObjectInstanceHandle::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void ObjectInstanceHandle::Swap(ObjectInstanceHandle* other) {
+  if (other != this) {
+    std::swap(federatehandle_, other->federatehandle_);
+    std::swap(objectinstancehandle_, other->objectinstancehandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ObjectInstanceHandle::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ObjectInstanceHandle_descriptor_;
+  metadata.reflection = ObjectInstanceHandle_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RegionHandle::kFederateHandleFieldNumber;
+const int RegionHandle::kRegionHandleFieldNumber;
+#endif  // !_MSC_VER
+
+RegionHandle::RegionHandle()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RegionHandle::InitAsDefaultInstance() {
+}
+
+RegionHandle::RegionHandle(const RegionHandle& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RegionHandle::SharedCtor() {
+  _cached_size_ = 0;
+  federatehandle_ = 0u;
+  regionhandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RegionHandle::~RegionHandle() {
+  SharedDtor();
+}
+
+void RegionHandle::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void RegionHandle::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RegionHandle::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RegionHandle_descriptor_;
+}
+
+const RegionHandle& RegionHandle::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+RegionHandle* RegionHandle::default_instance_ = NULL;
+
+RegionHandle* RegionHandle::New() const {
+  return new RegionHandle;
+}
+
+void RegionHandle::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    federatehandle_ = 0u;
+    regionhandle_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RegionHandle::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 federateHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &federatehandle_)));
+          set_has_federatehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_regionHandle;
+        break;
+      }
+
+      // required uint32 regionHandle = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_regionHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &regionhandle_)));
+          set_has_regionhandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RegionHandle::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 federateHandle = 1;
+  if (has_federatehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->federatehandle(), output);
+  }
+
+  // required uint32 regionHandle = 2;
+  if (has_regionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->regionhandle(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RegionHandle::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 federateHandle = 1;
+  if (has_federatehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->federatehandle(), target);
+  }
+
+  // required uint32 regionHandle = 2;
+  if (has_regionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->regionhandle(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RegionHandle::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 federateHandle = 1;
+    if (has_federatehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->federatehandle());
+    }
+
+    // required uint32 regionHandle = 2;
+    if (has_regionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->regionhandle());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RegionHandle::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RegionHandle* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RegionHandle*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RegionHandle::MergeFrom(const RegionHandle& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_federatehandle()) {
+      set_federatehandle(from.federatehandle());
+    }
+    if (from.has_regionhandle()) {
+      set_regionhandle(from.regionhandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RegionHandle::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RegionHandle::CopyFrom(const RegionHandle& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RegionHandle::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void RegionHandle::Swap(RegionHandle* other) {
+  if (other != this) {
+    std::swap(federatehandle_, other->federatehandle_);
+    std::swap(regionhandle_, other->regionhandle_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RegionHandle::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RegionHandle_descriptor_;
+  metadata.reflection = RegionHandle_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int DimensionRangeBound::kDimensionHandleFieldNumber;
+const int DimensionRangeBound::kLowerBoundFieldNumber;
+const int DimensionRangeBound::kUpperBoundFieldNumber;
+#endif  // !_MSC_VER
+
+DimensionRangeBound::DimensionRangeBound()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void DimensionRangeBound::InitAsDefaultInstance() {
+}
+
+DimensionRangeBound::DimensionRangeBound(const DimensionRangeBound& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void DimensionRangeBound::SharedCtor() {
+  _cached_size_ = 0;
+  dimensionhandle_ = 0u;
+  lowerbound_ = GOOGLE_ULONGLONG(0);
+  upperbound_ = GOOGLE_ULONGLONG(0);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+DimensionRangeBound::~DimensionRangeBound() {
+  SharedDtor();
+}
+
+void DimensionRangeBound::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void DimensionRangeBound::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* DimensionRangeBound::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return DimensionRangeBound_descriptor_;
+}
+
+const DimensionRangeBound& DimensionRangeBound::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+DimensionRangeBound* DimensionRangeBound::default_instance_ = NULL;
+
+DimensionRangeBound* DimensionRangeBound::New() const {
+  return new DimensionRangeBound;
+}
+
+void DimensionRangeBound::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    dimensionhandle_ = 0u;
+    lowerbound_ = GOOGLE_ULONGLONG(0);
+    upperbound_ = GOOGLE_ULONGLONG(0);
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool DimensionRangeBound::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 dimensionHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &dimensionhandle_)));
+          set_has_dimensionhandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_lowerBound;
+        break;
+      }
+
+      // required uint64 lowerBound = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_lowerBound:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &lowerbound_)));
+          set_has_lowerbound();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_upperBound;
+        break;
+      }
+
+      // required uint64 upperBound = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_upperBound:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &upperbound_)));
+          set_has_upperbound();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void DimensionRangeBound::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 dimensionHandle = 1;
+  if (has_dimensionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->dimensionhandle(), output);
+  }
+
+  // required uint64 lowerBound = 2;
+  if (has_lowerbound()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(2, this->lowerbound(), output);
+  }
+
+  // required uint64 upperBound = 3;
+  if (has_upperbound()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(3, this->upperbound(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* DimensionRangeBound::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 dimensionHandle = 1;
+  if (has_dimensionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->dimensionhandle(), target);
+  }
+
+  // required uint64 lowerBound = 2;
+  if (has_lowerbound()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(2, this->lowerbound(), target);
+  }
+
+  // required uint64 upperBound = 3;
+  if (has_upperbound()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(3, this->upperbound(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int DimensionRangeBound::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 dimensionHandle = 1;
+    if (has_dimensionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->dimensionhandle());
+    }
+
+    // required uint64 lowerBound = 2;
+    if (has_lowerbound()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->lowerbound());
+    }
+
+    // required uint64 upperBound = 3;
+    if (has_upperbound()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->upperbound());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void DimensionRangeBound::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const DimensionRangeBound* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const DimensionRangeBound*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void DimensionRangeBound::MergeFrom(const DimensionRangeBound& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_dimensionhandle()) {
+      set_dimensionhandle(from.dimensionhandle());
+    }
+    if (from.has_lowerbound()) {
+      set_lowerbound(from.lowerbound());
+    }
+    if (from.has_upperbound()) {
+      set_upperbound(from.upperbound());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void DimensionRangeBound::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void DimensionRangeBound::CopyFrom(const DimensionRangeBound& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool DimensionRangeBound::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000007) != 0x00000007) return false;
+
+  return true;
+}
+
+void DimensionRangeBound::Swap(DimensionRangeBound* other) {
+  if (other != this) {
+    std::swap(dimensionhandle_, other->dimensionhandle_);
+    std::swap(lowerbound_, other->lowerbound_);
+    std::swap(upperbound_, other->upperbound_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata DimensionRangeBound::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = DimensionRangeBound_descriptor_;
+  metadata.reflection = DimensionRangeBound_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int PublishedObjectClass::kObjectClassHandleFieldNumber;
+const int PublishedObjectClass::kAttributeHandlesFieldNumber;
+#endif  // !_MSC_VER
+
+PublishedObjectClass::PublishedObjectClass()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void PublishedObjectClass::InitAsDefaultInstance() {
+}
+
+PublishedObjectClass::PublishedObjectClass(const PublishedObjectClass& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void PublishedObjectClass::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+PublishedObjectClass::~PublishedObjectClass() {
+  SharedDtor();
+}
+
+void PublishedObjectClass::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void PublishedObjectClass::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* PublishedObjectClass::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return PublishedObjectClass_descriptor_;
+}
+
+const PublishedObjectClass& PublishedObjectClass::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+PublishedObjectClass* PublishedObjectClass::default_instance_ = NULL;
+
+PublishedObjectClass* PublishedObjectClass::New() const {
+  return new PublishedObjectClass;
+}
+
+void PublishedObjectClass::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+  }
+  attributehandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool PublishedObjectClass::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        break;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_attributeHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 16, input, this->mutable_attributehandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_attributehandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_attributeHandles;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void PublishedObjectClass::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      2, this->attributehandles(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* PublishedObjectClass::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  // repeated uint32 attributeHandles = 2;
+  for (int i = 0; i < this->attributehandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(2, this->attributehandles(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int PublishedObjectClass::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+  }
+  // repeated uint32 attributeHandles = 2;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->attributehandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->attributehandles(i));
+    }
+    total_size += 1 * this->attributehandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void PublishedObjectClass::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const PublishedObjectClass* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const PublishedObjectClass*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void PublishedObjectClass::MergeFrom(const PublishedObjectClass& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributehandles_.MergeFrom(from.attributehandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void PublishedObjectClass::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void PublishedObjectClass::CopyFrom(const PublishedObjectClass& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool PublishedObjectClass::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void PublishedObjectClass::Swap(PublishedObjectClass* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    attributehandles_.Swap(&other->attributehandles_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata PublishedObjectClass::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = PublishedObjectClass_descriptor_;
+  metadata.reflection = PublishedObjectClass_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int RegionSubscription::kRegionHandleFieldNumber;
+const int RegionSubscription::kPassiveFieldNumber;
+#endif  // !_MSC_VER
+
+RegionSubscription::RegionSubscription()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void RegionSubscription::InitAsDefaultInstance() {
+  regionhandle_ = const_cast< ::ohla::rti::proto::RegionHandle*>(&::ohla::rti::proto::RegionHandle::default_instance());
+}
+
+RegionSubscription::RegionSubscription(const RegionSubscription& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void RegionSubscription::SharedCtor() {
+  _cached_size_ = 0;
+  regionhandle_ = NULL;
+  passive_ = false;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+RegionSubscription::~RegionSubscription() {
+  SharedDtor();
+}
+
+void RegionSubscription::SharedDtor() {
+  if (this != default_instance_) {
+    delete regionhandle_;
+  }
+}
+
+void RegionSubscription::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* RegionSubscription::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return RegionSubscription_descriptor_;
+}
+
+const RegionSubscription& RegionSubscription::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+RegionSubscription* RegionSubscription::default_instance_ = NULL;
+
+RegionSubscription* RegionSubscription::New() const {
+  return new RegionSubscription;
+}
+
+void RegionSubscription::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_regionhandle()) {
+      if (regionhandle_ != NULL) regionhandle_->::ohla::rti::proto::RegionHandle::Clear();
+    }
+    passive_ = false;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool RegionSubscription::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_regionhandle()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_passive;
+        break;
+      }
+
+      // required bool passive = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_passive:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &passive_)));
+          set_has_passive();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void RegionSubscription::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  if (has_regionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->regionhandle(), output);
+  }
+
+  // required bool passive = 2;
+  if (has_passive()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(2, this->passive(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* RegionSubscription::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  if (has_regionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->regionhandle(), target);
+  }
+
+  // required bool passive = 2;
+  if (has_passive()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(2, this->passive(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int RegionSubscription::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+    if (has_regionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->regionhandle());
+    }
+
+    // required bool passive = 2;
+    if (has_passive()) {
+      total_size += 1 + 1;
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void RegionSubscription::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const RegionSubscription* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RegionSubscription*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void RegionSubscription::MergeFrom(const RegionSubscription& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_regionhandle()) {
+      mutable_regionhandle()->::ohla::rti::proto::RegionHandle::MergeFrom(from.regionhandle());
+    }
+    if (from.has_passive()) {
+      set_passive(from.passive());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void RegionSubscription::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void RegionSubscription::CopyFrom(const RegionSubscription& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool RegionSubscription::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  if (has_regionhandle()) {
+    if (!this->regionhandle().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void RegionSubscription::Swap(RegionSubscription* other) {
+  if (other != this) {
+    std::swap(regionhandle_, other->regionhandle_);
+    std::swap(passive_, other->passive_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata RegionSubscription::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = RegionSubscription_descriptor_;
+  metadata.reflection = RegionSubscription_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int AttributeSubscription::kAttributeHandleFieldNumber;
+const int AttributeSubscription::kDefaultRegionSubscribedFieldNumber;
+const int AttributeSubscription::kDefaultRegionSubscriptionPassiveFieldNumber;
+const int AttributeSubscription::kRegionSubscriptionsFieldNumber;
+#endif  // !_MSC_VER
+
+AttributeSubscription::AttributeSubscription()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void AttributeSubscription::InitAsDefaultInstance() {
+}
+
+AttributeSubscription::AttributeSubscription(const AttributeSubscription& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void AttributeSubscription::SharedCtor() {
+  _cached_size_ = 0;
+  attributehandle_ = 0u;
+  defaultregionsubscribed_ = false;
+  defaultregionsubscriptionpassive_ = false;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+AttributeSubscription::~AttributeSubscription() {
+  SharedDtor();
+}
+
+void AttributeSubscription::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void AttributeSubscription::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* AttributeSubscription::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return AttributeSubscription_descriptor_;
+}
+
+const AttributeSubscription& AttributeSubscription::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+AttributeSubscription* AttributeSubscription::default_instance_ = NULL;
+
+AttributeSubscription* AttributeSubscription::New() const {
+  return new AttributeSubscription;
+}
+
+void AttributeSubscription::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    attributehandle_ = 0u;
+    defaultregionsubscribed_ = false;
+    defaultregionsubscriptionpassive_ = false;
+  }
+  regionsubscriptions_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool AttributeSubscription::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 attributeHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &attributehandle_)));
+          set_has_attributehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_defaultRegionSubscribed;
+        break;
+      }
+
+      // required bool defaultRegionSubscribed = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_defaultRegionSubscribed:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &defaultregionsubscribed_)));
+          set_has_defaultregionsubscribed();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_defaultRegionSubscriptionPassive;
+        break;
+      }
+
+      // required bool defaultRegionSubscriptionPassive = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_defaultRegionSubscriptionPassive:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &defaultregionsubscriptionpassive_)));
+          set_has_defaultregionsubscriptionpassive();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_regionSubscriptions;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_regionSubscriptions:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_regionsubscriptions()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_regionSubscriptions;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void AttributeSubscription::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 attributeHandle = 1;
+  if (has_attributehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->attributehandle(), output);
+  }
+
+  // required bool defaultRegionSubscribed = 2;
+  if (has_defaultregionsubscribed()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(2, this->defaultregionsubscribed(), output);
+  }
+
+  // required bool defaultRegionSubscriptionPassive = 3;
+  if (has_defaultregionsubscriptionpassive()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(3, this->defaultregionsubscriptionpassive(), output);
+  }
+
+  // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+  for (int i = 0; i < this->regionsubscriptions_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      4, this->regionsubscriptions(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* AttributeSubscription::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 attributeHandle = 1;
+  if (has_attributehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->attributehandle(), target);
+  }
+
+  // required bool defaultRegionSubscribed = 2;
+  if (has_defaultregionsubscribed()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(2, this->defaultregionsubscribed(), target);
+  }
+
+  // required bool defaultRegionSubscriptionPassive = 3;
+  if (has_defaultregionsubscriptionpassive()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(3, this->defaultregionsubscriptionpassive(), target);
+  }
+
+  // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+  for (int i = 0; i < this->regionsubscriptions_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        4, this->regionsubscriptions(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int AttributeSubscription::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 attributeHandle = 1;
+    if (has_attributehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->attributehandle());
+    }
+
+    // required bool defaultRegionSubscribed = 2;
+    if (has_defaultregionsubscribed()) {
+      total_size += 1 + 1;
+    }
+
+    // required bool defaultRegionSubscriptionPassive = 3;
+    if (has_defaultregionsubscriptionpassive()) {
+      total_size += 1 + 1;
+    }
+
+  }
+  // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+  total_size += 1 * this->regionsubscriptions_size();
+  for (int i = 0; i < this->regionsubscriptions_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->regionsubscriptions(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void AttributeSubscription::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const AttributeSubscription* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const AttributeSubscription*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void AttributeSubscription::MergeFrom(const AttributeSubscription& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  regionsubscriptions_.MergeFrom(from.regionsubscriptions_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_attributehandle()) {
+      set_attributehandle(from.attributehandle());
+    }
+    if (from.has_defaultregionsubscribed()) {
+      set_defaultregionsubscribed(from.defaultregionsubscribed());
+    }
+    if (from.has_defaultregionsubscriptionpassive()) {
+      set_defaultregionsubscriptionpassive(from.defaultregionsubscriptionpassive());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void AttributeSubscription::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void AttributeSubscription::CopyFrom(const AttributeSubscription& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool AttributeSubscription::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000007) != 0x00000007) return false;
+
+  for (int i = 0; i < regionsubscriptions_size(); i++) {
+    if (!this->regionsubscriptions(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void AttributeSubscription::Swap(AttributeSubscription* other) {
+  if (other != this) {
+    std::swap(attributehandle_, other->attributehandle_);
+    std::swap(defaultregionsubscribed_, other->defaultregionsubscribed_);
+    std::swap(defaultregionsubscriptionpassive_, other->defaultregionsubscriptionpassive_);
+    regionsubscriptions_.Swap(&other->regionsubscriptions_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata AttributeSubscription::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = AttributeSubscription_descriptor_;
+  metadata.reflection = AttributeSubscription_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ObjectClassSubscription::kObjectClassHandleFieldNumber;
+const int ObjectClassSubscription::kAttributeSubscriptionFieldNumber;
+#endif  // !_MSC_VER
+
+ObjectClassSubscription::ObjectClassSubscription()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ObjectClassSubscription::InitAsDefaultInstance() {
+}
+
+ObjectClassSubscription::ObjectClassSubscription(const ObjectClassSubscription& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ObjectClassSubscription::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ObjectClassSubscription::~ObjectClassSubscription() {
+  SharedDtor();
+}
+
+void ObjectClassSubscription::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void ObjectClassSubscription::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ObjectClassSubscription::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ObjectClassSubscription_descriptor_;
+}
+
+const ObjectClassSubscription& ObjectClassSubscription::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+ObjectClassSubscription* ObjectClassSubscription::default_instance_ = NULL;
+
+ObjectClassSubscription* ObjectClassSubscription::New() const {
+  return new ObjectClassSubscription;
+}
+
+void ObjectClassSubscription::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+  }
+  attributesubscription_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ObjectClassSubscription::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_attributeSubscription;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_attributeSubscription:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_attributesubscription()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_attributeSubscription;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ObjectClassSubscription::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  // repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;
+  for (int i = 0; i < this->attributesubscription_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->attributesubscription(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ObjectClassSubscription::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  // repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;
+  for (int i = 0; i < this->attributesubscription_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->attributesubscription(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ObjectClassSubscription::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+  }
+  // repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;
+  total_size += 1 * this->attributesubscription_size();
+  for (int i = 0; i < this->attributesubscription_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->attributesubscription(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ObjectClassSubscription::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ObjectClassSubscription* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ObjectClassSubscription*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ObjectClassSubscription::MergeFrom(const ObjectClassSubscription& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributesubscription_.MergeFrom(from.attributesubscription_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ObjectClassSubscription::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ObjectClassSubscription::CopyFrom(const ObjectClassSubscription& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ObjectClassSubscription::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  for (int i = 0; i < attributesubscription_size(); i++) {
+    if (!this->attributesubscription(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void ObjectClassSubscription::Swap(ObjectClassSubscription* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    attributesubscription_.Swap(&other->attributesubscription_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ObjectClassSubscription::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ObjectClassSubscription_descriptor_;
+  metadata.reflection = ObjectClassSubscription_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int InteractionClassSubscription::kInteractionClassHandleFieldNumber;
+const int InteractionClassSubscription::kDefaultRegionSubscribedFieldNumber;
+const int InteractionClassSubscription::kDefaultRegionSubscriptionPassiveFieldNumber;
+const int InteractionClassSubscription::kRegionSubscriptionsFieldNumber;
+#endif  // !_MSC_VER
+
+InteractionClassSubscription::InteractionClassSubscription()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void InteractionClassSubscription::InitAsDefaultInstance() {
+}
+
+InteractionClassSubscription::InteractionClassSubscription(const InteractionClassSubscription& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void InteractionClassSubscription::SharedCtor() {
+  _cached_size_ = 0;
+  interactionclasshandle_ = 0u;
+  defaultregionsubscribed_ = false;
+  defaultregionsubscriptionpassive_ = false;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+InteractionClassSubscription::~InteractionClassSubscription() {
+  SharedDtor();
+}
+
+void InteractionClassSubscription::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void InteractionClassSubscription::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* InteractionClassSubscription::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return InteractionClassSubscription_descriptor_;
+}
+
+const InteractionClassSubscription& InteractionClassSubscription::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+InteractionClassSubscription* InteractionClassSubscription::default_instance_ = NULL;
+
+InteractionClassSubscription* InteractionClassSubscription::New() const {
+  return new InteractionClassSubscription;
+}
+
+void InteractionClassSubscription::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    interactionclasshandle_ = 0u;
+    defaultregionsubscribed_ = false;
+    defaultregionsubscriptionpassive_ = false;
+  }
+  regionsubscriptions_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool InteractionClassSubscription::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 interactionClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &interactionclasshandle_)));
+          set_has_interactionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_defaultRegionSubscribed;
+        break;
+      }
+
+      // required bool defaultRegionSubscribed = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_defaultRegionSubscribed:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &defaultregionsubscribed_)));
+          set_has_defaultregionsubscribed();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_defaultRegionSubscriptionPassive;
+        break;
+      }
+
+      // required bool defaultRegionSubscriptionPassive = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_defaultRegionSubscriptionPassive:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &defaultregionsubscriptionpassive_)));
+          set_has_defaultregionsubscriptionpassive();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_regionSubscriptions;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_regionSubscriptions:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_regionsubscriptions()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_regionSubscriptions;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void InteractionClassSubscription::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->interactionclasshandle(), output);
+  }
+
+  // required bool defaultRegionSubscribed = 2;
+  if (has_defaultregionsubscribed()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(2, this->defaultregionsubscribed(), output);
+  }
+
+  // required bool defaultRegionSubscriptionPassive = 3;
+  if (has_defaultregionsubscriptionpassive()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(3, this->defaultregionsubscriptionpassive(), output);
+  }
+
+  // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+  for (int i = 0; i < this->regionsubscriptions_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      4, this->regionsubscriptions(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* InteractionClassSubscription::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->interactionclasshandle(), target);
+  }
+
+  // required bool defaultRegionSubscribed = 2;
+  if (has_defaultregionsubscribed()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(2, this->defaultregionsubscribed(), target);
+  }
+
+  // required bool defaultRegionSubscriptionPassive = 3;
+  if (has_defaultregionsubscriptionpassive()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(3, this->defaultregionsubscriptionpassive(), target);
+  }
+
+  // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+  for (int i = 0; i < this->regionsubscriptions_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        4, this->regionsubscriptions(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int InteractionClassSubscription::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 interactionClassHandle = 1;
+    if (has_interactionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->interactionclasshandle());
+    }
+
+    // required bool defaultRegionSubscribed = 2;
+    if (has_defaultregionsubscribed()) {
+      total_size += 1 + 1;
+    }
+
+    // required bool defaultRegionSubscriptionPassive = 3;
+    if (has_defaultregionsubscriptionpassive()) {
+      total_size += 1 + 1;
+    }
+
+  }
+  // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+  total_size += 1 * this->regionsubscriptions_size();
+  for (int i = 0; i < this->regionsubscriptions_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->regionsubscriptions(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void InteractionClassSubscription::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const InteractionClassSubscription* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const InteractionClassSubscription*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void InteractionClassSubscription::MergeFrom(const InteractionClassSubscription& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  regionsubscriptions_.MergeFrom(from.regionsubscriptions_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_interactionclasshandle()) {
+      set_interactionclasshandle(from.interactionclasshandle());
+    }
+    if (from.has_defaultregionsubscribed()) {
+      set_defaultregionsubscribed(from.defaultregionsubscribed());
+    }
+    if (from.has_defaultregionsubscriptionpassive()) {
+      set_defaultregionsubscriptionpassive(from.defaultregionsubscriptionpassive());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void InteractionClassSubscription::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void InteractionClassSubscription::CopyFrom(const InteractionClassSubscription& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool InteractionClassSubscription::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000007) != 0x00000007) return false;
+
+  for (int i = 0; i < regionsubscriptions_size(); i++) {
+    if (!this->regionsubscriptions(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void InteractionClassSubscription::Swap(InteractionClassSubscription* other) {
+  if (other != this) {
+    std::swap(interactionclasshandle_, other->interactionclasshandle_);
+    std::swap(defaultregionsubscribed_, other->defaultregionsubscribed_);
+    std::swap(defaultregionsubscriptionpassive_, other->defaultregionsubscriptionpassive_);
+    regionsubscriptions_.Swap(&other->regionsubscriptions_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata InteractionClassSubscription::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = InteractionClassSubscription_descriptor_;
+  metadata.reflection = InteractionClassSubscription_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int SubscriptionManagerState::kObjectClassSubscriptionsFieldNumber;
+const int SubscriptionManagerState::kInteractionClassSubscriptionsFieldNumber;
+#endif  // !_MSC_VER
+
+SubscriptionManagerState::SubscriptionManagerState()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void SubscriptionManagerState::InitAsDefaultInstance() {
+}
+
+SubscriptionManagerState::SubscriptionManagerState(const SubscriptionManagerState& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void SubscriptionManagerState::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+SubscriptionManagerState::~SubscriptionManagerState() {
+  SharedDtor();
+}
+
+void SubscriptionManagerState::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void SubscriptionManagerState::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* SubscriptionManagerState::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return SubscriptionManagerState_descriptor_;
+}
+
+const SubscriptionManagerState& SubscriptionManagerState::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+SubscriptionManagerState* SubscriptionManagerState::default_instance_ = NULL;
+
+SubscriptionManagerState* SubscriptionManagerState::New() const {
+  return new SubscriptionManagerState;
+}
+
+void SubscriptionManagerState::Clear() {
+  objectclasssubscriptions_.Clear();
+  interactionclasssubscriptions_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool SubscriptionManagerState::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectClassSubscriptions:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_objectclasssubscriptions()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_objectClassSubscriptions;
+        if (input->ExpectTag(18)) goto parse_interactionClassSubscriptions;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_interactionClassSubscriptions:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_interactionclasssubscriptions()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_interactionClassSubscriptions;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void SubscriptionManagerState::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;
+  for (int i = 0; i < this->objectclasssubscriptions_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->objectclasssubscriptions(i), output);
+  }
+
+  // repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;
+  for (int i = 0; i < this->interactionclasssubscriptions_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->interactionclasssubscriptions(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* SubscriptionManagerState::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;
+  for (int i = 0; i < this->objectclasssubscriptions_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->objectclasssubscriptions(i), target);
+  }
+
+  // repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;
+  for (int i = 0; i < this->interactionclasssubscriptions_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->interactionclasssubscriptions(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int SubscriptionManagerState::ByteSize() const {
+  int total_size = 0;
+
+  // repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;
+  total_size += 1 * this->objectclasssubscriptions_size();
+  for (int i = 0; i < this->objectclasssubscriptions_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->objectclasssubscriptions(i));
+  }
+
+  // repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;
+  total_size += 1 * this->interactionclasssubscriptions_size();
+  for (int i = 0; i < this->interactionclasssubscriptions_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->interactionclasssubscriptions(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void SubscriptionManagerState::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const SubscriptionManagerState* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const SubscriptionManagerState*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void SubscriptionManagerState::MergeFrom(const SubscriptionManagerState& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  objectclasssubscriptions_.MergeFrom(from.objectclasssubscriptions_);
+  interactionclasssubscriptions_.MergeFrom(from.interactionclasssubscriptions_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void SubscriptionManagerState::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void SubscriptionManagerState::CopyFrom(const SubscriptionManagerState& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool SubscriptionManagerState::IsInitialized() const {
+
+  for (int i = 0; i < objectclasssubscriptions_size(); i++) {
+    if (!this->objectclasssubscriptions(i).IsInitialized()) return false;
+  }
+  for (int i = 0; i < interactionclasssubscriptions_size(); i++) {
+    if (!this->interactionclasssubscriptions(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void SubscriptionManagerState::Swap(SubscriptionManagerState* other) {
+  if (other != this) {
+    objectclasssubscriptions_.Swap(&other->objectclasssubscriptions_);
+    interactionclasssubscriptions_.Swap(&other->interactionclasssubscriptions_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata SubscriptionManagerState::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = SubscriptionManagerState_descriptor_;
+  metadata.reflection = SubscriptionManagerState_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int FDD_Dimension::kDimensionHandleFieldNumber;
+const int FDD_Dimension::kDimensionNameFieldNumber;
+const int FDD_Dimension::kUpperBoundFieldNumber;
+#endif  // !_MSC_VER
+
+FDD_Dimension::FDD_Dimension()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FDD_Dimension::InitAsDefaultInstance() {
+}
+
+FDD_Dimension::FDD_Dimension(const FDD_Dimension& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FDD_Dimension::SharedCtor() {
+  _cached_size_ = 0;
+  dimensionhandle_ = 0u;
+  dimensionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  upperbound_ = GOOGLE_ULONGLONG(0);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FDD_Dimension::~FDD_Dimension() {
+  SharedDtor();
+}
+
+void FDD_Dimension::SharedDtor() {
+  if (dimensionname_ != &::google::protobuf::internal::kEmptyString) {
+    delete dimensionname_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FDD_Dimension::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FDD_Dimension::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FDD_Dimension_descriptor_;
+}
+
+const FDD_Dimension& FDD_Dimension::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+FDD_Dimension* FDD_Dimension::default_instance_ = NULL;
+
+FDD_Dimension* FDD_Dimension::New() const {
+  return new FDD_Dimension;
+}
+
+void FDD_Dimension::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    dimensionhandle_ = 0u;
+    if (has_dimensionname()) {
+      if (dimensionname_ != &::google::protobuf::internal::kEmptyString) {
+        dimensionname_->clear();
+      }
+    }
+    upperbound_ = GOOGLE_ULONGLONG(0);
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FDD_Dimension::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 dimensionHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &dimensionhandle_)));
+          set_has_dimensionhandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_dimensionName;
+        break;
+      }
+
+      // required string dimensionName = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_dimensionName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_dimensionname()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->dimensionname().data(), this->dimensionname().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_upperBound;
+        break;
+      }
+
+      // required uint64 upperBound = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_upperBound:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &upperbound_)));
+          set_has_upperbound();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FDD_Dimension::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 dimensionHandle = 1;
+  if (has_dimensionhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->dimensionhandle(), output);
+  }
+
+  // required string dimensionName = 2;
+  if (has_dimensionname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->dimensionname().data(), this->dimensionname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->dimensionname(), output);
+  }
+
+  // required uint64 upperBound = 3;
+  if (has_upperbound()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(3, this->upperbound(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FDD_Dimension::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 dimensionHandle = 1;
+  if (has_dimensionhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->dimensionhandle(), target);
+  }
+
+  // required string dimensionName = 2;
+  if (has_dimensionname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->dimensionname().data(), this->dimensionname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->dimensionname(), target);
+  }
+
+  // required uint64 upperBound = 3;
+  if (has_upperbound()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(3, this->upperbound(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FDD_Dimension::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 dimensionHandle = 1;
+    if (has_dimensionhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->dimensionhandle());
+    }
+
+    // required string dimensionName = 2;
+    if (has_dimensionname()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->dimensionname());
+    }
+
+    // required uint64 upperBound = 3;
+    if (has_upperbound()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->upperbound());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FDD_Dimension::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FDD_Dimension* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FDD_Dimension*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FDD_Dimension::MergeFrom(const FDD_Dimension& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_dimensionhandle()) {
+      set_dimensionhandle(from.dimensionhandle());
+    }
+    if (from.has_dimensionname()) {
+      set_dimensionname(from.dimensionname());
+    }
+    if (from.has_upperbound()) {
+      set_upperbound(from.upperbound());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FDD_Dimension::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FDD_Dimension::CopyFrom(const FDD_Dimension& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FDD_Dimension::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000007) != 0x00000007) return false;
+
+  return true;
+}
+
+void FDD_Dimension::Swap(FDD_Dimension* other) {
+  if (other != this) {
+    std::swap(dimensionhandle_, other->dimensionhandle_);
+    std::swap(dimensionname_, other->dimensionname_);
+    std::swap(upperbound_, other->upperbound_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FDD_Dimension::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FDD_Dimension_descriptor_;
+  metadata.reflection = FDD_Dimension_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FDD_ObjectClass_Attribute::kAttributeHandleFieldNumber;
+const int FDD_ObjectClass_Attribute::kAttributeNameFieldNumber;
+const int FDD_ObjectClass_Attribute::kDimensionHandlesFieldNumber;
+const int FDD_ObjectClass_Attribute::kTransportationTypeHandleFieldNumber;
+const int FDD_ObjectClass_Attribute::kOrderTypeFieldNumber;
+#endif  // !_MSC_VER
+
+FDD_ObjectClass_Attribute::FDD_ObjectClass_Attribute()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FDD_ObjectClass_Attribute::InitAsDefaultInstance() {
+}
+
+FDD_ObjectClass_Attribute::FDD_ObjectClass_Attribute(const FDD_ObjectClass_Attribute& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FDD_ObjectClass_Attribute::SharedCtor() {
+  _cached_size_ = 0;
+  attributehandle_ = 0u;
+  attributename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  transportationtypehandle_ = 0u;
+  ordertype_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FDD_ObjectClass_Attribute::~FDD_ObjectClass_Attribute() {
+  SharedDtor();
+}
+
+void FDD_ObjectClass_Attribute::SharedDtor() {
+  if (attributename_ != &::google::protobuf::internal::kEmptyString) {
+    delete attributename_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FDD_ObjectClass_Attribute::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FDD_ObjectClass_Attribute::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FDD_ObjectClass_Attribute_descriptor_;
+}
+
+const FDD_ObjectClass_Attribute& FDD_ObjectClass_Attribute::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+FDD_ObjectClass_Attribute* FDD_ObjectClass_Attribute::default_instance_ = NULL;
+
+FDD_ObjectClass_Attribute* FDD_ObjectClass_Attribute::New() const {
+  return new FDD_ObjectClass_Attribute;
+}
+
+void FDD_ObjectClass_Attribute::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    attributehandle_ = 0u;
+    if (has_attributename()) {
+      if (attributename_ != &::google::protobuf::internal::kEmptyString) {
+        attributename_->clear();
+      }
+    }
+    transportationtypehandle_ = 0u;
+    ordertype_ = 1;
+  }
+  dimensionhandles_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FDD_ObjectClass_Attribute::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 attributeHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &attributehandle_)));
+          set_has_attributehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_attributeName;
+        break;
+      }
+
+      // required string attributeName = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_attributeName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_attributename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->attributename().data(), this->attributename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_dimensionHandles;
+        break;
+      }
+
+      // repeated uint32 dimensionHandles = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_dimensionHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 24, input, this->mutable_dimensionhandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_dimensionhandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_dimensionHandles;
+        if (input->ExpectTag(32)) goto parse_transportationTypeHandle;
+        break;
+      }
+
+      // required uint32 transportationTypeHandle = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_transportationTypeHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &transportationtypehandle_)));
+          set_has_transportationtypehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(40)) goto parse_orderType;
+        break;
+      }
+
+      // required .ohla.rti.proto.OrderType orderType = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_orderType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::OrderType_IsValid(value)) {
+            set_ordertype(static_cast< ::ohla::rti::proto::OrderType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(5, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FDD_ObjectClass_Attribute::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 attributeHandle = 1;
+  if (has_attributehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->attributehandle(), output);
+  }
+
+  // required string attributeName = 2;
+  if (has_attributename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->attributename().data(), this->attributename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->attributename(), output);
+  }
+
+  // repeated uint32 dimensionHandles = 3;
+  for (int i = 0; i < this->dimensionhandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      3, this->dimensionhandles(i), output);
+  }
+
+  // required uint32 transportationTypeHandle = 4;
+  if (has_transportationtypehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(4, this->transportationtypehandle(), output);
+  }
+
+  // required .ohla.rti.proto.OrderType orderType = 5;
+  if (has_ordertype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      5, this->ordertype(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FDD_ObjectClass_Attribute::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 attributeHandle = 1;
+  if (has_attributehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->attributehandle(), target);
+  }
+
+  // required string attributeName = 2;
+  if (has_attributename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->attributename().data(), this->attributename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->attributename(), target);
+  }
+
+  // repeated uint32 dimensionHandles = 3;
+  for (int i = 0; i < this->dimensionhandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(3, this->dimensionhandles(i), target);
+  }
+
+  // required uint32 transportationTypeHandle = 4;
+  if (has_transportationtypehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(4, this->transportationtypehandle(), target);
+  }
+
+  // required .ohla.rti.proto.OrderType orderType = 5;
+  if (has_ordertype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      5, this->ordertype(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FDD_ObjectClass_Attribute::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 attributeHandle = 1;
+    if (has_attributehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->attributehandle());
+    }
+
+    // required string attributeName = 2;
+    if (has_attributename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->attributename());
+    }
+
+    // required uint32 transportationTypeHandle = 4;
+    if (has_transportationtypehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->transportationtypehandle());
+    }
+
+    // required .ohla.rti.proto.OrderType orderType = 5;
+    if (has_ordertype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->ordertype());
+    }
+
+  }
+  // repeated uint32 dimensionHandles = 3;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->dimensionhandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->dimensionhandles(i));
+    }
+    total_size += 1 * this->dimensionhandles_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FDD_ObjectClass_Attribute::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FDD_ObjectClass_Attribute* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FDD_ObjectClass_Attribute*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FDD_ObjectClass_Attribute::MergeFrom(const FDD_ObjectClass_Attribute& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  dimensionhandles_.MergeFrom(from.dimensionhandles_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_attributehandle()) {
+      set_attributehandle(from.attributehandle());
+    }
+    if (from.has_attributename()) {
+      set_attributename(from.attributename());
+    }
+    if (from.has_transportationtypehandle()) {
+      set_transportationtypehandle(from.transportationtypehandle());
+    }
+    if (from.has_ordertype()) {
+      set_ordertype(from.ordertype());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FDD_ObjectClass_Attribute::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FDD_ObjectClass_Attribute::CopyFrom(const FDD_ObjectClass_Attribute& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FDD_ObjectClass_Attribute::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000001b) != 0x0000001b) return false;
+
+  return true;
+}
+
+void FDD_ObjectClass_Attribute::Swap(FDD_ObjectClass_Attribute* other) {
+  if (other != this) {
+    std::swap(attributehandle_, other->attributehandle_);
+    std::swap(attributename_, other->attributename_);
+    dimensionhandles_.Swap(&other->dimensionhandles_);
+    std::swap(transportationtypehandle_, other->transportationtypehandle_);
+    std::swap(ordertype_, other->ordertype_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FDD_ObjectClass_Attribute::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FDD_ObjectClass_Attribute_descriptor_;
+  metadata.reflection = FDD_ObjectClass_Attribute_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FDD_ObjectClass::kObjectClassHandleFieldNumber;
+const int FDD_ObjectClass::kObjectClassNameFieldNumber;
+const int FDD_ObjectClass::kSuperObjectClassHandleFieldNumber;
+const int FDD_ObjectClass::kAttributesFieldNumber;
+#endif  // !_MSC_VER
+
+FDD_ObjectClass::FDD_ObjectClass()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FDD_ObjectClass::InitAsDefaultInstance() {
+}
+
+FDD_ObjectClass::FDD_ObjectClass(const FDD_ObjectClass& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FDD_ObjectClass::SharedCtor() {
+  _cached_size_ = 0;
+  objectclasshandle_ = 0u;
+  objectclassname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  superobjectclasshandle_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FDD_ObjectClass::~FDD_ObjectClass() {
+  SharedDtor();
+}
+
+void FDD_ObjectClass::SharedDtor() {
+  if (objectclassname_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectclassname_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FDD_ObjectClass::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FDD_ObjectClass::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FDD_ObjectClass_descriptor_;
+}
+
+const FDD_ObjectClass& FDD_ObjectClass::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+FDD_ObjectClass* FDD_ObjectClass::default_instance_ = NULL;
+
+FDD_ObjectClass* FDD_ObjectClass::New() const {
+  return new FDD_ObjectClass;
+}
+
+void FDD_ObjectClass::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    objectclasshandle_ = 0u;
+    if (has_objectclassname()) {
+      if (objectclassname_ != &::google::protobuf::internal::kEmptyString) {
+        objectclassname_->clear();
+      }
+    }
+    superobjectclasshandle_ = 0u;
+  }
+  attributes_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FDD_ObjectClass::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 objectClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &objectclasshandle_)));
+          set_has_objectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_objectClassName;
+        break;
+      }
+
+      // required string objectClassName = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectClassName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_objectclassname()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->objectclassname().data(), this->objectclassname().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_superObjectClassHandle;
+        break;
+      }
+
+      // optional uint32 superObjectClassHandle = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_superObjectClassHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &superobjectclasshandle_)));
+          set_has_superobjectclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_attributes;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_attributes:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_attributes()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_attributes;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FDD_ObjectClass::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->objectclasshandle(), output);
+  }
+
+  // required string objectClassName = 2;
+  if (has_objectclassname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectclassname().data(), this->objectclassname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->objectclassname(), output);
+  }
+
+  // optional uint32 superObjectClassHandle = 3;
+  if (has_superobjectclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(3, this->superobjectclasshandle(), output);
+  }
+
+  // repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;
+  for (int i = 0; i < this->attributes_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      4, this->attributes(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FDD_ObjectClass::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 objectClassHandle = 1;
+  if (has_objectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->objectclasshandle(), target);
+  }
+
+  // required string objectClassName = 2;
+  if (has_objectclassname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->objectclassname().data(), this->objectclassname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->objectclassname(), target);
+  }
+
+  // optional uint32 superObjectClassHandle = 3;
+  if (has_superobjectclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(3, this->superobjectclasshandle(), target);
+  }
+
+  // repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;
+  for (int i = 0; i < this->attributes_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        4, this->attributes(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FDD_ObjectClass::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 objectClassHandle = 1;
+    if (has_objectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->objectclasshandle());
+    }
+
+    // required string objectClassName = 2;
+    if (has_objectclassname()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->objectclassname());
+    }
+
+    // optional uint32 superObjectClassHandle = 3;
+    if (has_superobjectclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->superobjectclasshandle());
+    }
+
+  }
+  // repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;
+  total_size += 1 * this->attributes_size();
+  for (int i = 0; i < this->attributes_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->attributes(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FDD_ObjectClass::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FDD_ObjectClass* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FDD_ObjectClass*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FDD_ObjectClass::MergeFrom(const FDD_ObjectClass& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attributes_.MergeFrom(from.attributes_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_objectclasshandle()) {
+      set_objectclasshandle(from.objectclasshandle());
+    }
+    if (from.has_objectclassname()) {
+      set_objectclassname(from.objectclassname());
+    }
+    if (from.has_superobjectclasshandle()) {
+      set_superobjectclasshandle(from.superobjectclasshandle());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FDD_ObjectClass::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FDD_ObjectClass::CopyFrom(const FDD_ObjectClass& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FDD_ObjectClass::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  for (int i = 0; i < attributes_size(); i++) {
+    if (!this->attributes(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FDD_ObjectClass::Swap(FDD_ObjectClass* other) {
+  if (other != this) {
+    std::swap(objectclasshandle_, other->objectclasshandle_);
+    std::swap(objectclassname_, other->objectclassname_);
+    std::swap(superobjectclasshandle_, other->superobjectclasshandle_);
+    attributes_.Swap(&other->attributes_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FDD_ObjectClass::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FDD_ObjectClass_descriptor_;
+  metadata.reflection = FDD_ObjectClass_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FDD_InteractionClass_Parameter::kParameterHandleFieldNumber;
+const int FDD_InteractionClass_Parameter::kParameterNameFieldNumber;
+#endif  // !_MSC_VER
+
+FDD_InteractionClass_Parameter::FDD_InteractionClass_Parameter()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FDD_InteractionClass_Parameter::InitAsDefaultInstance() {
+}
+
+FDD_InteractionClass_Parameter::FDD_InteractionClass_Parameter(const FDD_InteractionClass_Parameter& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FDD_InteractionClass_Parameter::SharedCtor() {
+  _cached_size_ = 0;
+  parameterhandle_ = 0u;
+  parametername_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FDD_InteractionClass_Parameter::~FDD_InteractionClass_Parameter() {
+  SharedDtor();
+}
+
+void FDD_InteractionClass_Parameter::SharedDtor() {
+  if (parametername_ != &::google::protobuf::internal::kEmptyString) {
+    delete parametername_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FDD_InteractionClass_Parameter::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FDD_InteractionClass_Parameter::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FDD_InteractionClass_Parameter_descriptor_;
+}
+
+const FDD_InteractionClass_Parameter& FDD_InteractionClass_Parameter::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+FDD_InteractionClass_Parameter* FDD_InteractionClass_Parameter::default_instance_ = NULL;
+
+FDD_InteractionClass_Parameter* FDD_InteractionClass_Parameter::New() const {
+  return new FDD_InteractionClass_Parameter;
+}
+
+void FDD_InteractionClass_Parameter::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    parameterhandle_ = 0u;
+    if (has_parametername()) {
+      if (parametername_ != &::google::protobuf::internal::kEmptyString) {
+        parametername_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FDD_InteractionClass_Parameter::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 parameterHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &parameterhandle_)));
+          set_has_parameterhandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_parameterName;
+        break;
+      }
+
+      // required string parameterName = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_parameterName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_parametername()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->parametername().data(), this->parametername().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FDD_InteractionClass_Parameter::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 parameterHandle = 1;
+  if (has_parameterhandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->parameterhandle(), output);
+  }
+
+  // required string parameterName = 2;
+  if (has_parametername()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->parametername().data(), this->parametername().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->parametername(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FDD_InteractionClass_Parameter::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 parameterHandle = 1;
+  if (has_parameterhandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->parameterhandle(), target);
+  }
+
+  // required string parameterName = 2;
+  if (has_parametername()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->parametername().data(), this->parametername().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->parametername(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FDD_InteractionClass_Parameter::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 parameterHandle = 1;
+    if (has_parameterhandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->parameterhandle());
+    }
+
+    // required string parameterName = 2;
+    if (has_parametername()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->parametername());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FDD_InteractionClass_Parameter::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FDD_InteractionClass_Parameter* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FDD_InteractionClass_Parameter*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FDD_InteractionClass_Parameter::MergeFrom(const FDD_InteractionClass_Parameter& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_parameterhandle()) {
+      set_parameterhandle(from.parameterhandle());
+    }
+    if (from.has_parametername()) {
+      set_parametername(from.parametername());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FDD_InteractionClass_Parameter::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FDD_InteractionClass_Parameter::CopyFrom(const FDD_InteractionClass_Parameter& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FDD_InteractionClass_Parameter::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void FDD_InteractionClass_Parameter::Swap(FDD_InteractionClass_Parameter* other) {
+  if (other != this) {
+    std::swap(parameterhandle_, other->parameterhandle_);
+    std::swap(parametername_, other->parametername_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FDD_InteractionClass_Parameter::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FDD_InteractionClass_Parameter_descriptor_;
+  metadata.reflection = FDD_InteractionClass_Parameter_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FDD_InteractionClass::kInteractionClassHandleFieldNumber;
+const int FDD_InteractionClass::kInteractionClassNameFieldNumber;
+const int FDD_InteractionClass::kSuperInteractionClassHandleFieldNumber;
+const int FDD_InteractionClass::kDimensionHandlesFieldNumber;
+const int FDD_InteractionClass::kTransportationTypeHandleFieldNumber;
+const int FDD_InteractionClass::kOrderTypeFieldNumber;
+const int FDD_InteractionClass::kParametersFieldNumber;
+#endif  // !_MSC_VER
+
+FDD_InteractionClass::FDD_InteractionClass()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FDD_InteractionClass::InitAsDefaultInstance() {
+}
+
+FDD_InteractionClass::FDD_InteractionClass(const FDD_InteractionClass& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FDD_InteractionClass::SharedCtor() {
+  _cached_size_ = 0;
+  interactionclasshandle_ = 0u;
+  interactionclassname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  superinteractionclasshandle_ = 0u;
+  transportationtypehandle_ = 0u;
+  ordertype_ = 1;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FDD_InteractionClass::~FDD_InteractionClass() {
+  SharedDtor();
+}
+
+void FDD_InteractionClass::SharedDtor() {
+  if (interactionclassname_ != &::google::protobuf::internal::kEmptyString) {
+    delete interactionclassname_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FDD_InteractionClass::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FDD_InteractionClass::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FDD_InteractionClass_descriptor_;
+}
+
+const FDD_InteractionClass& FDD_InteractionClass::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+FDD_InteractionClass* FDD_InteractionClass::default_instance_ = NULL;
+
+FDD_InteractionClass* FDD_InteractionClass::New() const {
+  return new FDD_InteractionClass;
+}
+
+void FDD_InteractionClass::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    interactionclasshandle_ = 0u;
+    if (has_interactionclassname()) {
+      if (interactionclassname_ != &::google::protobuf::internal::kEmptyString) {
+        interactionclassname_->clear();
+      }
+    }
+    superinteractionclasshandle_ = 0u;
+    transportationtypehandle_ = 0u;
+    ordertype_ = 1;
+  }
+  dimensionhandles_.Clear();
+  parameters_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FDD_InteractionClass::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 interactionClassHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &interactionclasshandle_)));
+          set_has_interactionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_interactionClassName;
+        break;
+      }
+
+      // required string interactionClassName = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_interactionClassName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_interactionclassname()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->interactionclassname().data(), this->interactionclassname().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_superInteractionClassHandle;
+        break;
+      }
+
+      // optional uint32 superInteractionClassHandle = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_superInteractionClassHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &superinteractionclasshandle_)));
+          set_has_superinteractionclasshandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_dimensionHandles;
+        break;
+      }
+
+      // repeated uint32 dimensionHandles = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_dimensionHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 32, input, this->mutable_dimensionhandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_dimensionhandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(32)) goto parse_dimensionHandles;
+        if (input->ExpectTag(40)) goto parse_transportationTypeHandle;
+        break;
+      }
+
+      // required uint32 transportationTypeHandle = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_transportationTypeHandle:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &transportationtypehandle_)));
+          set_has_transportationtypehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(48)) goto parse_orderType;
+        break;
+      }
+
+      // required .ohla.rti.proto.OrderType orderType = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_orderType:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::ohla::rti::proto::OrderType_IsValid(value)) {
+            set_ordertype(static_cast< ::ohla::rti::proto::OrderType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(6, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(58)) goto parse_parameters;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;
+      case 7: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_parameters:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_parameters()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(58)) goto parse_parameters;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FDD_InteractionClass::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->interactionclasshandle(), output);
+  }
+
+  // required string interactionClassName = 2;
+  if (has_interactionclassname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->interactionclassname().data(), this->interactionclassname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->interactionclassname(), output);
+  }
+
+  // optional uint32 superInteractionClassHandle = 3;
+  if (has_superinteractionclasshandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(3, this->superinteractionclasshandle(), output);
+  }
+
+  // repeated uint32 dimensionHandles = 4;
+  for (int i = 0; i < this->dimensionhandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      4, this->dimensionhandles(i), output);
+  }
+
+  // required uint32 transportationTypeHandle = 5;
+  if (has_transportationtypehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(5, this->transportationtypehandle(), output);
+  }
+
+  // required .ohla.rti.proto.OrderType orderType = 6;
+  if (has_ordertype()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      6, this->ordertype(), output);
+  }
+
+  // repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;
+  for (int i = 0; i < this->parameters_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      7, this->parameters(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FDD_InteractionClass::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 interactionClassHandle = 1;
+  if (has_interactionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->interactionclasshandle(), target);
+  }
+
+  // required string interactionClassName = 2;
+  if (has_interactionclassname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->interactionclassname().data(), this->interactionclassname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->interactionclassname(), target);
+  }
+
+  // optional uint32 superInteractionClassHandle = 3;
+  if (has_superinteractionclasshandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(3, this->superinteractionclasshandle(), target);
+  }
+
+  // repeated uint32 dimensionHandles = 4;
+  for (int i = 0; i < this->dimensionhandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(4, this->dimensionhandles(i), target);
+  }
+
+  // required uint32 transportationTypeHandle = 5;
+  if (has_transportationtypehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(5, this->transportationtypehandle(), target);
+  }
+
+  // required .ohla.rti.proto.OrderType orderType = 6;
+  if (has_ordertype()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      6, this->ordertype(), target);
+  }
+
+  // repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;
+  for (int i = 0; i < this->parameters_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        7, this->parameters(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FDD_InteractionClass::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 interactionClassHandle = 1;
+    if (has_interactionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->interactionclasshandle());
+    }
+
+    // required string interactionClassName = 2;
+    if (has_interactionclassname()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->interactionclassname());
+    }
+
+    // optional uint32 superInteractionClassHandle = 3;
+    if (has_superinteractionclasshandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->superinteractionclasshandle());
+    }
+
+    // required uint32 transportationTypeHandle = 5;
+    if (has_transportationtypehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->transportationtypehandle());
+    }
+
+    // required .ohla.rti.proto.OrderType orderType = 6;
+    if (has_ordertype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->ordertype());
+    }
+
+  }
+  // repeated uint32 dimensionHandles = 4;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->dimensionhandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->dimensionhandles(i));
+    }
+    total_size += 1 * this->dimensionhandles_size() + data_size;
+  }
+
+  // repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;
+  total_size += 1 * this->parameters_size();
+  for (int i = 0; i < this->parameters_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->parameters(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FDD_InteractionClass::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FDD_InteractionClass* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FDD_InteractionClass*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FDD_InteractionClass::MergeFrom(const FDD_InteractionClass& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  dimensionhandles_.MergeFrom(from.dimensionhandles_);
+  parameters_.MergeFrom(from.parameters_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_interactionclasshandle()) {
+      set_interactionclasshandle(from.interactionclasshandle());
+    }
+    if (from.has_interactionclassname()) {
+      set_interactionclassname(from.interactionclassname());
+    }
+    if (from.has_superinteractionclasshandle()) {
+      set_superinteractionclasshandle(from.superinteractionclasshandle());
+    }
+    if (from.has_transportationtypehandle()) {
+      set_transportationtypehandle(from.transportationtypehandle());
+    }
+    if (from.has_ordertype()) {
+      set_ordertype(from.ordertype());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FDD_InteractionClass::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FDD_InteractionClass::CopyFrom(const FDD_InteractionClass& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FDD_InteractionClass::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000033) != 0x00000033) return false;
+
+  for (int i = 0; i < parameters_size(); i++) {
+    if (!this->parameters(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FDD_InteractionClass::Swap(FDD_InteractionClass* other) {
+  if (other != this) {
+    std::swap(interactionclasshandle_, other->interactionclasshandle_);
+    std::swap(interactionclassname_, other->interactionclassname_);
+    std::swap(superinteractionclasshandle_, other->superinteractionclasshandle_);
+    dimensionhandles_.Swap(&other->dimensionhandles_);
+    std::swap(transportationtypehandle_, other->transportationtypehandle_);
+    std::swap(ordertype_, other->ordertype_);
+    parameters_.Swap(&other->parameters_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FDD_InteractionClass::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FDD_InteractionClass_descriptor_;
+  metadata.reflection = FDD_InteractionClass_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FDD_FED_RoutingSpace::kRoutingSpaceHandleFieldNumber;
+const int FDD_FED_RoutingSpace::kRoutingSpaceNameFieldNumber;
+const int FDD_FED_RoutingSpace::kDimensionHandlesFieldNumber;
+const int FDD_FED_RoutingSpace::kAliasesFieldNumber;
+#endif  // !_MSC_VER
+
+FDD_FED_RoutingSpace::FDD_FED_RoutingSpace()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FDD_FED_RoutingSpace::InitAsDefaultInstance() {
+}
+
+FDD_FED_RoutingSpace::FDD_FED_RoutingSpace(const FDD_FED_RoutingSpace& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FDD_FED_RoutingSpace::SharedCtor() {
+  _cached_size_ = 0;
+  routingspacehandle_ = 0u;
+  routingspacename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FDD_FED_RoutingSpace::~FDD_FED_RoutingSpace() {
+  SharedDtor();
+}
+
+void FDD_FED_RoutingSpace::SharedDtor() {
+  if (routingspacename_ != &::google::protobuf::internal::kEmptyString) {
+    delete routingspacename_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FDD_FED_RoutingSpace::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FDD_FED_RoutingSpace::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FDD_FED_RoutingSpace_descriptor_;
+}
+
+const FDD_FED_RoutingSpace& FDD_FED_RoutingSpace::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+FDD_FED_RoutingSpace* FDD_FED_RoutingSpace::default_instance_ = NULL;
+
+FDD_FED_RoutingSpace* FDD_FED_RoutingSpace::New() const {
+  return new FDD_FED_RoutingSpace;
+}
+
+void FDD_FED_RoutingSpace::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    routingspacehandle_ = 0u;
+    if (has_routingspacename()) {
+      if (routingspacename_ != &::google::protobuf::internal::kEmptyString) {
+        routingspacename_->clear();
+      }
+    }
+  }
+  dimensionhandles_.Clear();
+  aliases_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FDD_FED_RoutingSpace::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 routingSpaceHandle = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &routingspacehandle_)));
+          set_has_routingspacehandle();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_routingSpaceName;
+        break;
+      }
+
+      // required string routingSpaceName = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_routingSpaceName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_routingspacename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->routingspacename().data(), this->routingspacename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_dimensionHandles;
+        break;
+      }
+
+      // repeated uint32 dimensionHandles = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_dimensionHandles:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 24, input, this->mutable_dimensionhandles())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_dimensionhandles())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_dimensionHandles;
+        if (input->ExpectTag(34)) goto parse_aliases;
+        break;
+      }
+
+      // repeated string aliases = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_aliases:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_aliases()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->aliases(this->aliases_size() - 1).data(),
+            this->aliases(this->aliases_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_aliases;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FDD_FED_RoutingSpace::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint32 routingSpaceHandle = 1;
+  if (has_routingspacehandle()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->routingspacehandle(), output);
+  }
+
+  // required string routingSpaceName = 2;
+  if (has_routingspacename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->routingspacename().data(), this->routingspacename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->routingspacename(), output);
+  }
+
+  // repeated uint32 dimensionHandles = 3;
+  for (int i = 0; i < this->dimensionhandles_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(
+      3, this->dimensionhandles(i), output);
+  }
+
+  // repeated string aliases = 4;
+  for (int i = 0; i < this->aliases_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->aliases(i).data(), this->aliases(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      4, this->aliases(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FDD_FED_RoutingSpace::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint32 routingSpaceHandle = 1;
+  if (has_routingspacehandle()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->routingspacehandle(), target);
+  }
+
+  // required string routingSpaceName = 2;
+  if (has_routingspacename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->routingspacename().data(), this->routingspacename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->routingspacename(), target);
+  }
+
+  // repeated uint32 dimensionHandles = 3;
+  for (int i = 0; i < this->dimensionhandles_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32ToArray(3, this->dimensionhandles(i), target);
+  }
+
+  // repeated string aliases = 4;
+  for (int i = 0; i < this->aliases_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->aliases(i).data(), this->aliases(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(4, this->aliases(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FDD_FED_RoutingSpace::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 routingSpaceHandle = 1;
+    if (has_routingspacehandle()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->routingspacehandle());
+    }
+
+    // required string routingSpaceName = 2;
+    if (has_routingspacename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->routingspacename());
+    }
+
+  }
+  // repeated uint32 dimensionHandles = 3;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->dimensionhandles_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->dimensionhandles(i));
+    }
+    total_size += 1 * this->dimensionhandles_size() + data_size;
+  }
+
+  // repeated string aliases = 4;
+  total_size += 1 * this->aliases_size();
+  for (int i = 0; i < this->aliases_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->aliases(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FDD_FED_RoutingSpace::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FDD_FED_RoutingSpace* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FDD_FED_RoutingSpace*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FDD_FED_RoutingSpace::MergeFrom(const FDD_FED_RoutingSpace& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  dimensionhandles_.MergeFrom(from.dimensionhandles_);
+  aliases_.MergeFrom(from.aliases_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_routingspacehandle()) {
+      set_routingspacehandle(from.routingspacehandle());
+    }
+    if (from.has_routingspacename()) {
+      set_routingspacename(from.routingspacename());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FDD_FED_RoutingSpace::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FDD_FED_RoutingSpace::CopyFrom(const FDD_FED_RoutingSpace& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FDD_FED_RoutingSpace::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void FDD_FED_RoutingSpace::Swap(FDD_FED_RoutingSpace* other) {
+  if (other != this) {
+    std::swap(routingspacehandle_, other->routingspacehandle_);
+    std::swap(routingspacename_, other->routingspacename_);
+    dimensionhandles_.Swap(&other->dimensionhandles_);
+    aliases_.Swap(&other->aliases_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FDD_FED_RoutingSpace::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FDD_FED_RoutingSpace_descriptor_;
+  metadata.reflection = FDD_FED_RoutingSpace_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FDD_FED::kFedNameFieldNumber;
+const int FDD_FED::kRoutingSpaceFieldNumber;
+#endif  // !_MSC_VER
+
+FDD_FED::FDD_FED()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FDD_FED::InitAsDefaultInstance() {
+}
+
+FDD_FED::FDD_FED(const FDD_FED& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FDD_FED::SharedCtor() {
+  _cached_size_ = 0;
+  fedname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FDD_FED::~FDD_FED() {
+  SharedDtor();
+}
+
+void FDD_FED::SharedDtor() {
+  if (fedname_ != &::google::protobuf::internal::kEmptyString) {
+    delete fedname_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void FDD_FED::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FDD_FED::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FDD_FED_descriptor_;
+}
+
+const FDD_FED& FDD_FED::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+FDD_FED* FDD_FED::default_instance_ = NULL;
+
+FDD_FED* FDD_FED::New() const {
+  return new FDD_FED;
+}
+
+void FDD_FED::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_fedname()) {
+      if (fedname_ != &::google::protobuf::internal::kEmptyString) {
+        fedname_->clear();
+      }
+    }
+  }
+  routingspace_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FDD_FED::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // optional string fedName = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_fedname()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->fedname().data(), this->fedname().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_routingSpace;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_routingSpace:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_routingspace()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_routingSpace;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FDD_FED::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // optional string fedName = 1;
+  if (has_fedname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->fedname().data(), this->fedname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->fedname(), output);
+  }
+
+  // repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;
+  for (int i = 0; i < this->routingspace_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->routingspace(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FDD_FED::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // optional string fedName = 1;
+  if (has_fedname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->fedname().data(), this->fedname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->fedname(), target);
+  }
+
+  // repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;
+  for (int i = 0; i < this->routingspace_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->routingspace(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FDD_FED::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // optional string fedName = 1;
+    if (has_fedname()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->fedname());
+    }
+
+  }
+  // repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;
+  total_size += 1 * this->routingspace_size();
+  for (int i = 0; i < this->routingspace_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->routingspace(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FDD_FED::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FDD_FED* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FDD_FED*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FDD_FED::MergeFrom(const FDD_FED& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  routingspace_.MergeFrom(from.routingspace_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_fedname()) {
+      set_fedname(from.fedname());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FDD_FED::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FDD_FED::CopyFrom(const FDD_FED& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FDD_FED::IsInitialized() const {
+
+  for (int i = 0; i < routingspace_size(); i++) {
+    if (!this->routingspace(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FDD_FED::Swap(FDD_FED* other) {
+  if (other != this) {
+    std::swap(fedname_, other->fedname_);
+    routingspace_.Swap(&other->routingspace_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FDD_FED::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FDD_FED_descriptor_;
+  metadata.reflection = FDD_FED_reflection_;
+  return metadata;
+}
+
+
+// -------------------------------------------------------------------
+
+#ifndef _MSC_VER
+const int FDD::kSourcesFieldNumber;
+const int FDD::kObjectClassesFieldNumber;
+const int FDD::kInteractionClassesFieldNumber;
+const int FDD::kDimensionsFieldNumber;
+const int FDD::kFedFieldNumber;
+#endif  // !_MSC_VER
+
+FDD::FDD()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void FDD::InitAsDefaultInstance() {
+  fed_ = const_cast< ::ohla::rti::proto::FDD_FED*>(&::ohla::rti::proto::FDD_FED::default_instance());
+}
+
+FDD::FDD(const FDD& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void FDD::SharedCtor() {
+  _cached_size_ = 0;
+  fed_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+FDD::~FDD() {
+  SharedDtor();
+}
+
+void FDD::SharedDtor() {
+  if (this != default_instance_) {
+    delete fed_;
+  }
+}
+
+void FDD::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* FDD::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return FDD_descriptor_;
+}
+
+const FDD& FDD::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_OHLAProtos_2eproto();
+  return *default_instance_;
+}
+
+FDD* FDD::default_instance_ = NULL;
+
+FDD* FDD::New() const {
+  return new FDD;
+}
+
+void FDD::Clear() {
+  if (_has_bits_[4 / 32] & (0xffu << (4 % 32))) {
+    if (has_fed()) {
+      if (fed_ != NULL) fed_->::ohla::rti::proto::FDD_FED::Clear();
+    }
+  }
+  sources_.Clear();
+  objectclasses_.Clear();
+  interactionclasses_.Clear();
+  dimensions_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool FDD::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated string sources = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_sources:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_sources()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->sources(this->sources_size() - 1).data(),
+            this->sources(this->sources_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_sources;
+        if (input->ExpectTag(18)) goto parse_objectClasses;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_objectClasses:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_objectclasses()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_objectClasses;
+        if (input->ExpectTag(26)) goto parse_interactionClasses;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_interactionClasses:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_interactionclasses()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_interactionClasses;
+        if (input->ExpectTag(34)) goto parse_dimensions;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_dimensions:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_dimensions()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_dimensions;
+        if (input->ExpectTag(42)) goto parse_fed;
+        break;
+      }
+
+      // required .ohla.rti.proto.FDD.FED fed = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_fed:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_fed()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void FDD::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated string sources = 1;
+  for (int i = 0; i < this->sources_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->sources(i).data(), this->sources(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->sources(i), output);
+  }
+
+  // repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;
+  for (int i = 0; i < this->objectclasses_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->objectclasses(i), output);
+  }
+
+  // repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;
+  for (int i = 0; i < this->interactionclasses_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->interactionclasses(i), output);
+  }
+
+  // repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;
+  for (int i = 0; i < this->dimensions_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      4, this->dimensions(i), output);
+  }
+
+  // required .ohla.rti.proto.FDD.FED fed = 5;
+  if (has_fed()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      5, this->fed(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* FDD::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated string sources = 1;
+  for (int i = 0; i < this->sources_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->sources(i).data(), this->sources(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(1, this->sources(i), target);
+  }
+
+  // repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;
+  for (int i = 0; i < this->objectclasses_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->objectclasses(i), target);
+  }
+
+  // repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;
+  for (int i = 0; i < this->interactionclasses_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->interactionclasses(i), target);
+  }
+
+  // repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;
+  for (int i = 0; i < this->dimensions_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        4, this->dimensions(i), target);
+  }
+
+  // required .ohla.rti.proto.FDD.FED fed = 5;
+  if (has_fed()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        5, this->fed(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int FDD::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[4 / 32] & (0xffu << (4 % 32))) {
+    // required .ohla.rti.proto.FDD.FED fed = 5;
+    if (has_fed()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->fed());
+    }
+
+  }
+  // repeated string sources = 1;
+  total_size += 1 * this->sources_size();
+  for (int i = 0; i < this->sources_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->sources(i));
+  }
+
+  // repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;
+  total_size += 1 * this->objectclasses_size();
+  for (int i = 0; i < this->objectclasses_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->objectclasses(i));
+  }
+
+  // repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;
+  total_size += 1 * this->interactionclasses_size();
+  for (int i = 0; i < this->interactionclasses_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->interactionclasses(i));
+  }
+
+  // repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;
+  total_size += 1 * this->dimensions_size();
+  for (int i = 0; i < this->dimensions_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->dimensions(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void FDD::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const FDD* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const FDD*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void FDD::MergeFrom(const FDD& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  sources_.MergeFrom(from.sources_);
+  objectclasses_.MergeFrom(from.objectclasses_);
+  interactionclasses_.MergeFrom(from.interactionclasses_);
+  dimensions_.MergeFrom(from.dimensions_);
+  if (from._has_bits_[4 / 32] & (0xffu << (4 % 32))) {
+    if (from.has_fed()) {
+      mutable_fed()->::ohla::rti::proto::FDD_FED::MergeFrom(from.fed());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void FDD::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void FDD::CopyFrom(const FDD& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool FDD::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000010) != 0x00000010) return false;
+
+  for (int i = 0; i < objectclasses_size(); i++) {
+    if (!this->objectclasses(i).IsInitialized()) return false;
+  }
+  for (int i = 0; i < interactionclasses_size(); i++) {
+    if (!this->interactionclasses(i).IsInitialized()) return false;
+  }
+  for (int i = 0; i < dimensions_size(); i++) {
+    if (!this->dimensions(i).IsInitialized()) return false;
+  }
+  if (has_fed()) {
+    if (!this->fed().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void FDD::Swap(FDD* other) {
+  if (other != this) {
+    sources_.Swap(&other->sources_);
+    objectclasses_.Swap(&other->objectclasses_);
+    interactionclasses_.Swap(&other->interactionclasses_);
+    dimensions_.Swap(&other->dimensions_);
+    std::swap(fed_, other->fed_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata FDD::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = FDD_descriptor_;
+  metadata.reflection = FDD_reflection_;
+  return metadata;
+}
+
+
+// @@protoc_insertion_point(namespace_scope)
+
+}  // namespace proto
+}  // namespace rti
+}  // namespace ohla
+
+// @@protoc_insertion_point(global_scope)
@@ -0,0 +1,3916 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: OHLAProtos.proto
+
+#ifndef PROTOBUF_OHLAProtos_2eproto__INCLUDED
+#define PROTOBUF_OHLAProtos_2eproto__INCLUDED
+
+#include <string>
+
+#include <google/protobuf/stubs/common.h>
+
+#if GOOGLE_PROTOBUF_VERSION < 2005000
+#error This file was generated by a newer version of protoc which is
+#error incompatible with your Protocol Buffer headers.  Please update
+#error your headers.
+#endif
+#if 2005000 < GOOGLE_PROTOBUF_MIN_PROTOC_VERSION
+#error This file was generated by an older version of protoc which is
+#error incompatible with your Protocol Buffer headers.  Please
+#error regenerate this file with a newer version of protoc.
+#endif
+
+#include <google/protobuf/generated_message_util.h>
+#include <google/protobuf/message.h>
+#include <google/protobuf/repeated_field.h>
+#include <google/protobuf/extension_set.h>
+#include <google/protobuf/generated_enum_reflection.h>
+#include <google/protobuf/unknown_field_set.h>
+// @@protoc_insertion_point(includes)
+
+namespace ohla {
+namespace rti {
+namespace proto {
+
+// Internal implementation detail -- do not call these.
+void  protobuf_AddDesc_OHLAProtos_2eproto();
+void protobuf_AssignDesc_OHLAProtos_2eproto();
+void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+class MessageRetractionHandle;
+class ObjectInstanceHandle;
+class RegionHandle;
+class DimensionRangeBound;
+class PublishedObjectClass;
+class RegionSubscription;
+class AttributeSubscription;
+class ObjectClassSubscription;
+class InteractionClassSubscription;
+class SubscriptionManagerState;
+class FDD;
+class FDD_Dimension;
+class FDD_ObjectClass;
+class FDD_ObjectClass_Attribute;
+class FDD_InteractionClass;
+class FDD_InteractionClass_Parameter;
+class FDD_FED;
+class FDD_FED_RoutingSpace;
+
+enum AdvanceRequestType {
+  NONE = 1,
+  TIME_ADVANCE_REQUEST = 2,
+  TIME_ADVANCE_REQUEST_AVAILABLE = 3,
+  NEXT_MESSAGE_REQUEST = 4,
+  NEXT_MESSAGE_REQUEST_AVAILABLE = 5,
+  FLUSH_QUEUE_REQUEST = 6
+};
+bool AdvanceRequestType_IsValid(int value);
+const AdvanceRequestType AdvanceRequestType_MIN = NONE;
+const AdvanceRequestType AdvanceRequestType_MAX = FLUSH_QUEUE_REQUEST;
+const int AdvanceRequestType_ARRAYSIZE = AdvanceRequestType_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* AdvanceRequestType_descriptor();
+inline const ::std::string& AdvanceRequestType_Name(AdvanceRequestType value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    AdvanceRequestType_descriptor(), value);
+}
+inline bool AdvanceRequestType_Parse(
+    const ::std::string& name, AdvanceRequestType* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<AdvanceRequestType>(
+    AdvanceRequestType_descriptor(), name, value);
+}
+enum OrderType {
+  RECEIVE = 1,
+  TIMESTAMP = 2
+};
+bool OrderType_IsValid(int value);
+const OrderType OrderType_MIN = RECEIVE;
+const OrderType OrderType_MAX = TIMESTAMP;
+const int OrderType_ARRAYSIZE = OrderType_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* OrderType_descriptor();
+inline const ::std::string& OrderType_Name(OrderType value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    OrderType_descriptor(), value);
+}
+inline bool OrderType_Parse(
+    const ::std::string& name, OrderType* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<OrderType>(
+    OrderType_descriptor(), name, value);
+}
+enum ResignAction {
+  UNCONDITIONALLY_DIVEST_ATTRIBUTES = 1,
+  DELETE_OBJECTS = 2,
+  CANCEL_PENDING_OWNERSHIP_ACQUISITIONS = 3,
+  DELETE_OBJECTS_THEN_DIVEST = 4,
+  CANCEL_THEN_DELETE_THEN_DIVEST = 5,
+  NO_ACTION = 6
+};
+bool ResignAction_IsValid(int value);
+const ResignAction ResignAction_MIN = UNCONDITIONALLY_DIVEST_ATTRIBUTES;
+const ResignAction ResignAction_MAX = NO_ACTION;
+const int ResignAction_ARRAYSIZE = ResignAction_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* ResignAction_descriptor();
+inline const ::std::string& ResignAction_Name(ResignAction value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    ResignAction_descriptor(), value);
+}
+inline bool ResignAction_Parse(
+    const ::std::string& name, ResignAction* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<ResignAction>(
+    ResignAction_descriptor(), name, value);
+}
+// ===================================================================
+
+class MessageRetractionHandle : public ::google::protobuf::Message {
+ public:
+  MessageRetractionHandle();
+  virtual ~MessageRetractionHandle();
+
+  MessageRetractionHandle(const MessageRetractionHandle& from);
+
+  inline MessageRetractionHandle& operator=(const MessageRetractionHandle& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const MessageRetractionHandle& default_instance();
+
+  void Swap(MessageRetractionHandle* other);
+
+  // implements Message ----------------------------------------------
+
+  MessageRetractionHandle* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const MessageRetractionHandle& from);
+  void MergeFrom(const MessageRetractionHandle& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 federateHandle = 1;
+  inline bool has_federatehandle() const;
+  inline void clear_federatehandle();
+  static const int kFederateHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 federatehandle() const;
+  inline void set_federatehandle(::google::protobuf::uint32 value);
+
+  // required uint64 messageRetractionHandle = 2;
+  inline bool has_messageretractionhandle() const;
+  inline void clear_messageretractionhandle();
+  static const int kMessageRetractionHandleFieldNumber = 2;
+  inline ::google::protobuf::uint64 messageretractionhandle() const;
+  inline void set_messageretractionhandle(::google::protobuf::uint64 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.MessageRetractionHandle)
+ private:
+  inline void set_has_federatehandle();
+  inline void clear_has_federatehandle();
+  inline void set_has_messageretractionhandle();
+  inline void clear_has_messageretractionhandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 messageretractionhandle_;
+  ::google::protobuf::uint32 federatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static MessageRetractionHandle* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ObjectInstanceHandle : public ::google::protobuf::Message {
+ public:
+  ObjectInstanceHandle();
+  virtual ~ObjectInstanceHandle();
+
+  ObjectInstanceHandle(const ObjectInstanceHandle& from);
+
+  inline ObjectInstanceHandle& operator=(const ObjectInstanceHandle& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ObjectInstanceHandle& default_instance();
+
+  void Swap(ObjectInstanceHandle* other);
+
+  // implements Message ----------------------------------------------
+
+  ObjectInstanceHandle* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ObjectInstanceHandle& from);
+  void MergeFrom(const ObjectInstanceHandle& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 federateHandle = 1;
+  inline bool has_federatehandle() const;
+  inline void clear_federatehandle();
+  static const int kFederateHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 federatehandle() const;
+  inline void set_federatehandle(::google::protobuf::uint32 value);
+
+  // required uint64 objectInstanceHandle = 2;
+  inline bool has_objectinstancehandle() const;
+  inline void clear_objectinstancehandle();
+  static const int kObjectInstanceHandleFieldNumber = 2;
+  inline ::google::protobuf::uint64 objectinstancehandle() const;
+  inline void set_objectinstancehandle(::google::protobuf::uint64 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.ObjectInstanceHandle)
+ private:
+  inline void set_has_federatehandle();
+  inline void clear_has_federatehandle();
+  inline void set_has_objectinstancehandle();
+  inline void clear_has_objectinstancehandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 objectinstancehandle_;
+  ::google::protobuf::uint32 federatehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ObjectInstanceHandle* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RegionHandle : public ::google::protobuf::Message {
+ public:
+  RegionHandle();
+  virtual ~RegionHandle();
+
+  RegionHandle(const RegionHandle& from);
+
+  inline RegionHandle& operator=(const RegionHandle& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RegionHandle& default_instance();
+
+  void Swap(RegionHandle* other);
+
+  // implements Message ----------------------------------------------
+
+  RegionHandle* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RegionHandle& from);
+  void MergeFrom(const RegionHandle& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 federateHandle = 1;
+  inline bool has_federatehandle() const;
+  inline void clear_federatehandle();
+  static const int kFederateHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 federatehandle() const;
+  inline void set_federatehandle(::google::protobuf::uint32 value);
+
+  // required uint32 regionHandle = 2;
+  inline bool has_regionhandle() const;
+  inline void clear_regionhandle();
+  static const int kRegionHandleFieldNumber = 2;
+  inline ::google::protobuf::uint32 regionhandle() const;
+  inline void set_regionhandle(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.RegionHandle)
+ private:
+  inline void set_has_federatehandle();
+  inline void clear_has_federatehandle();
+  inline void set_has_regionhandle();
+  inline void clear_has_regionhandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 federatehandle_;
+  ::google::protobuf::uint32 regionhandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RegionHandle* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class DimensionRangeBound : public ::google::protobuf::Message {
+ public:
+  DimensionRangeBound();
+  virtual ~DimensionRangeBound();
+
+  DimensionRangeBound(const DimensionRangeBound& from);
+
+  inline DimensionRangeBound& operator=(const DimensionRangeBound& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const DimensionRangeBound& default_instance();
+
+  void Swap(DimensionRangeBound* other);
+
+  // implements Message ----------------------------------------------
+
+  DimensionRangeBound* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const DimensionRangeBound& from);
+  void MergeFrom(const DimensionRangeBound& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 dimensionHandle = 1;
+  inline bool has_dimensionhandle() const;
+  inline void clear_dimensionhandle();
+  static const int kDimensionHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 dimensionhandle() const;
+  inline void set_dimensionhandle(::google::protobuf::uint32 value);
+
+  // required uint64 lowerBound = 2;
+  inline bool has_lowerbound() const;
+  inline void clear_lowerbound();
+  static const int kLowerBoundFieldNumber = 2;
+  inline ::google::protobuf::uint64 lowerbound() const;
+  inline void set_lowerbound(::google::protobuf::uint64 value);
+
+  // required uint64 upperBound = 3;
+  inline bool has_upperbound() const;
+  inline void clear_upperbound();
+  static const int kUpperBoundFieldNumber = 3;
+  inline ::google::protobuf::uint64 upperbound() const;
+  inline void set_upperbound(::google::protobuf::uint64 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.DimensionRangeBound)
+ private:
+  inline void set_has_dimensionhandle();
+  inline void clear_has_dimensionhandle();
+  inline void set_has_lowerbound();
+  inline void clear_has_lowerbound();
+  inline void set_has_upperbound();
+  inline void clear_has_upperbound();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 lowerbound_;
+  ::google::protobuf::uint64 upperbound_;
+  ::google::protobuf::uint32 dimensionhandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static DimensionRangeBound* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class PublishedObjectClass : public ::google::protobuf::Message {
+ public:
+  PublishedObjectClass();
+  virtual ~PublishedObjectClass();
+
+  PublishedObjectClass(const PublishedObjectClass& from);
+
+  inline PublishedObjectClass& operator=(const PublishedObjectClass& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const PublishedObjectClass& default_instance();
+
+  void Swap(PublishedObjectClass* other);
+
+  // implements Message ----------------------------------------------
+
+  PublishedObjectClass* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const PublishedObjectClass& from);
+  void MergeFrom(const PublishedObjectClass& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // repeated uint32 attributeHandles = 2;
+  inline int attributehandles_size() const;
+  inline void clear_attributehandles();
+  static const int kAttributeHandlesFieldNumber = 2;
+  inline ::google::protobuf::uint32 attributehandles(int index) const;
+  inline void set_attributehandles(int index, ::google::protobuf::uint32 value);
+  inline void add_attributehandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      attributehandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_attributehandles();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.PublishedObjectClass)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > attributehandles_;
+  ::google::protobuf::uint32 objectclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static PublishedObjectClass* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class RegionSubscription : public ::google::protobuf::Message {
+ public:
+  RegionSubscription();
+  virtual ~RegionSubscription();
+
+  RegionSubscription(const RegionSubscription& from);
+
+  inline RegionSubscription& operator=(const RegionSubscription& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RegionSubscription& default_instance();
+
+  void Swap(RegionSubscription* other);
+
+  // implements Message ----------------------------------------------
+
+  RegionSubscription* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RegionSubscription& from);
+  void MergeFrom(const RegionSubscription& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+  inline bool has_regionhandle() const;
+  inline void clear_regionhandle();
+  static const int kRegionHandleFieldNumber = 1;
+  inline const ::ohla::rti::proto::RegionHandle& regionhandle() const;
+  inline ::ohla::rti::proto::RegionHandle* mutable_regionhandle();
+  inline ::ohla::rti::proto::RegionHandle* release_regionhandle();
+  inline void set_allocated_regionhandle(::ohla::rti::proto::RegionHandle* regionhandle);
+
+  // required bool passive = 2;
+  inline bool has_passive() const;
+  inline void clear_passive();
+  static const int kPassiveFieldNumber = 2;
+  inline bool passive() const;
+  inline void set_passive(bool value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.RegionSubscription)
+ private:
+  inline void set_has_regionhandle();
+  inline void clear_has_regionhandle();
+  inline void set_has_passive();
+  inline void clear_has_passive();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::ohla::rti::proto::RegionHandle* regionhandle_;
+  bool passive_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static RegionSubscription* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class AttributeSubscription : public ::google::protobuf::Message {
+ public:
+  AttributeSubscription();
+  virtual ~AttributeSubscription();
+
+  AttributeSubscription(const AttributeSubscription& from);
+
+  inline AttributeSubscription& operator=(const AttributeSubscription& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const AttributeSubscription& default_instance();
+
+  void Swap(AttributeSubscription* other);
+
+  // implements Message ----------------------------------------------
+
+  AttributeSubscription* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const AttributeSubscription& from);
+  void MergeFrom(const AttributeSubscription& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 attributeHandle = 1;
+  inline bool has_attributehandle() const;
+  inline void clear_attributehandle();
+  static const int kAttributeHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 attributehandle() const;
+  inline void set_attributehandle(::google::protobuf::uint32 value);
+
+  // required bool defaultRegionSubscribed = 2;
+  inline bool has_defaultregionsubscribed() const;
+  inline void clear_defaultregionsubscribed();
+  static const int kDefaultRegionSubscribedFieldNumber = 2;
+  inline bool defaultregionsubscribed() const;
+  inline void set_defaultregionsubscribed(bool value);
+
+  // required bool defaultRegionSubscriptionPassive = 3;
+  inline bool has_defaultregionsubscriptionpassive() const;
+  inline void clear_defaultregionsubscriptionpassive();
+  static const int kDefaultRegionSubscriptionPassiveFieldNumber = 3;
+  inline bool defaultregionsubscriptionpassive() const;
+  inline void set_defaultregionsubscriptionpassive(bool value);
+
+  // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+  inline int regionsubscriptions_size() const;
+  inline void clear_regionsubscriptions();
+  static const int kRegionSubscriptionsFieldNumber = 4;
+  inline const ::ohla::rti::proto::RegionSubscription& regionsubscriptions(int index) const;
+  inline ::ohla::rti::proto::RegionSubscription* mutable_regionsubscriptions(int index);
+  inline ::ohla::rti::proto::RegionSubscription* add_regionsubscriptions();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionSubscription >&
+      regionsubscriptions() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionSubscription >*
+      mutable_regionsubscriptions();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.AttributeSubscription)
+ private:
+  inline void set_has_attributehandle();
+  inline void clear_has_attributehandle();
+  inline void set_has_defaultregionsubscribed();
+  inline void clear_has_defaultregionsubscribed();
+  inline void set_has_defaultregionsubscriptionpassive();
+  inline void clear_has_defaultregionsubscriptionpassive();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 attributehandle_;
+  bool defaultregionsubscribed_;
+  bool defaultregionsubscriptionpassive_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionSubscription > regionsubscriptions_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static AttributeSubscription* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ObjectClassSubscription : public ::google::protobuf::Message {
+ public:
+  ObjectClassSubscription();
+  virtual ~ObjectClassSubscription();
+
+  ObjectClassSubscription(const ObjectClassSubscription& from);
+
+  inline ObjectClassSubscription& operator=(const ObjectClassSubscription& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ObjectClassSubscription& default_instance();
+
+  void Swap(ObjectClassSubscription* other);
+
+  // implements Message ----------------------------------------------
+
+  ObjectClassSubscription* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ObjectClassSubscription& from);
+  void MergeFrom(const ObjectClassSubscription& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;
+  inline int attributesubscription_size() const;
+  inline void clear_attributesubscription();
+  static const int kAttributeSubscriptionFieldNumber = 2;
+  inline const ::ohla::rti::proto::AttributeSubscription& attributesubscription(int index) const;
+  inline ::ohla::rti::proto::AttributeSubscription* mutable_attributesubscription(int index);
+  inline ::ohla::rti::proto::AttributeSubscription* add_attributesubscription();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::AttributeSubscription >&
+      attributesubscription() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::AttributeSubscription >*
+      mutable_attributesubscription();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.ObjectClassSubscription)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::AttributeSubscription > attributesubscription_;
+  ::google::protobuf::uint32 objectclasshandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ObjectClassSubscription* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class InteractionClassSubscription : public ::google::protobuf::Message {
+ public:
+  InteractionClassSubscription();
+  virtual ~InteractionClassSubscription();
+
+  InteractionClassSubscription(const InteractionClassSubscription& from);
+
+  inline InteractionClassSubscription& operator=(const InteractionClassSubscription& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const InteractionClassSubscription& default_instance();
+
+  void Swap(InteractionClassSubscription* other);
+
+  // implements Message ----------------------------------------------
+
+  InteractionClassSubscription* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const InteractionClassSubscription& from);
+  void MergeFrom(const InteractionClassSubscription& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 interactionClassHandle = 1;
+  inline bool has_interactionclasshandle() const;
+  inline void clear_interactionclasshandle();
+  static const int kInteractionClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 interactionclasshandle() const;
+  inline void set_interactionclasshandle(::google::protobuf::uint32 value);
+
+  // required bool defaultRegionSubscribed = 2;
+  inline bool has_defaultregionsubscribed() const;
+  inline void clear_defaultregionsubscribed();
+  static const int kDefaultRegionSubscribedFieldNumber = 2;
+  inline bool defaultregionsubscribed() const;
+  inline void set_defaultregionsubscribed(bool value);
+
+  // required bool defaultRegionSubscriptionPassive = 3;
+  inline bool has_defaultregionsubscriptionpassive() const;
+  inline void clear_defaultregionsubscriptionpassive();
+  static const int kDefaultRegionSubscriptionPassiveFieldNumber = 3;
+  inline bool defaultregionsubscriptionpassive() const;
+  inline void set_defaultregionsubscriptionpassive(bool value);
+
+  // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+  inline int regionsubscriptions_size() const;
+  inline void clear_regionsubscriptions();
+  static const int kRegionSubscriptionsFieldNumber = 4;
+  inline const ::ohla::rti::proto::RegionSubscription& regionsubscriptions(int index) const;
+  inline ::ohla::rti::proto::RegionSubscription* mutable_regionsubscriptions(int index);
+  inline ::ohla::rti::proto::RegionSubscription* add_regionsubscriptions();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionSubscription >&
+      regionsubscriptions() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionSubscription >*
+      mutable_regionsubscriptions();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.InteractionClassSubscription)
+ private:
+  inline void set_has_interactionclasshandle();
+  inline void clear_has_interactionclasshandle();
+  inline void set_has_defaultregionsubscribed();
+  inline void clear_has_defaultregionsubscribed();
+  inline void set_has_defaultregionsubscriptionpassive();
+  inline void clear_has_defaultregionsubscriptionpassive();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 interactionclasshandle_;
+  bool defaultregionsubscribed_;
+  bool defaultregionsubscriptionpassive_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionSubscription > regionsubscriptions_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static InteractionClassSubscription* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class SubscriptionManagerState : public ::google::protobuf::Message {
+ public:
+  SubscriptionManagerState();
+  virtual ~SubscriptionManagerState();
+
+  SubscriptionManagerState(const SubscriptionManagerState& from);
+
+  inline SubscriptionManagerState& operator=(const SubscriptionManagerState& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const SubscriptionManagerState& default_instance();
+
+  void Swap(SubscriptionManagerState* other);
+
+  // implements Message ----------------------------------------------
+
+  SubscriptionManagerState* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const SubscriptionManagerState& from);
+  void MergeFrom(const SubscriptionManagerState& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;
+  inline int objectclasssubscriptions_size() const;
+  inline void clear_objectclasssubscriptions();
+  static const int kObjectClassSubscriptionsFieldNumber = 1;
+  inline const ::ohla::rti::proto::ObjectClassSubscription& objectclasssubscriptions(int index) const;
+  inline ::ohla::rti::proto::ObjectClassSubscription* mutable_objectclasssubscriptions(int index);
+  inline ::ohla::rti::proto::ObjectClassSubscription* add_objectclasssubscriptions();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectClassSubscription >&
+      objectclasssubscriptions() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectClassSubscription >*
+      mutable_objectclasssubscriptions();
+
+  // repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;
+  inline int interactionclasssubscriptions_size() const;
+  inline void clear_interactionclasssubscriptions();
+  static const int kInteractionClassSubscriptionsFieldNumber = 2;
+  inline const ::ohla::rti::proto::InteractionClassSubscription& interactionclasssubscriptions(int index) const;
+  inline ::ohla::rti::proto::InteractionClassSubscription* mutable_interactionclasssubscriptions(int index);
+  inline ::ohla::rti::proto::InteractionClassSubscription* add_interactionclasssubscriptions();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::InteractionClassSubscription >&
+      interactionclasssubscriptions() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::InteractionClassSubscription >*
+      mutable_interactionclasssubscriptions();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.SubscriptionManagerState)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectClassSubscription > objectclasssubscriptions_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::InteractionClassSubscription > interactionclasssubscriptions_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static SubscriptionManagerState* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FDD_Dimension : public ::google::protobuf::Message {
+ public:
+  FDD_Dimension();
+  virtual ~FDD_Dimension();
+
+  FDD_Dimension(const FDD_Dimension& from);
+
+  inline FDD_Dimension& operator=(const FDD_Dimension& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FDD_Dimension& default_instance();
+
+  void Swap(FDD_Dimension* other);
+
+  // implements Message ----------------------------------------------
+
+  FDD_Dimension* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FDD_Dimension& from);
+  void MergeFrom(const FDD_Dimension& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 dimensionHandle = 1;
+  inline bool has_dimensionhandle() const;
+  inline void clear_dimensionhandle();
+  static const int kDimensionHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 dimensionhandle() const;
+  inline void set_dimensionhandle(::google::protobuf::uint32 value);
+
+  // required string dimensionName = 2;
+  inline bool has_dimensionname() const;
+  inline void clear_dimensionname();
+  static const int kDimensionNameFieldNumber = 2;
+  inline const ::std::string& dimensionname() const;
+  inline void set_dimensionname(const ::std::string& value);
+  inline void set_dimensionname(const char* value);
+  inline void set_dimensionname(const char* value, size_t size);
+  inline ::std::string* mutable_dimensionname();
+  inline ::std::string* release_dimensionname();
+  inline void set_allocated_dimensionname(::std::string* dimensionname);
+
+  // required uint64 upperBound = 3;
+  inline bool has_upperbound() const;
+  inline void clear_upperbound();
+  static const int kUpperBoundFieldNumber = 3;
+  inline ::google::protobuf::uint64 upperbound() const;
+  inline void set_upperbound(::google::protobuf::uint64 value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD.Dimension)
+ private:
+  inline void set_has_dimensionhandle();
+  inline void clear_has_dimensionhandle();
+  inline void set_has_dimensionname();
+  inline void clear_has_dimensionname();
+  inline void set_has_upperbound();
+  inline void clear_has_upperbound();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* dimensionname_;
+  ::google::protobuf::uint64 upperbound_;
+  ::google::protobuf::uint32 dimensionhandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FDD_Dimension* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FDD_ObjectClass_Attribute : public ::google::protobuf::Message {
+ public:
+  FDD_ObjectClass_Attribute();
+  virtual ~FDD_ObjectClass_Attribute();
+
+  FDD_ObjectClass_Attribute(const FDD_ObjectClass_Attribute& from);
+
+  inline FDD_ObjectClass_Attribute& operator=(const FDD_ObjectClass_Attribute& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FDD_ObjectClass_Attribute& default_instance();
+
+  void Swap(FDD_ObjectClass_Attribute* other);
+
+  // implements Message ----------------------------------------------
+
+  FDD_ObjectClass_Attribute* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FDD_ObjectClass_Attribute& from);
+  void MergeFrom(const FDD_ObjectClass_Attribute& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 attributeHandle = 1;
+  inline bool has_attributehandle() const;
+  inline void clear_attributehandle();
+  static const int kAttributeHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 attributehandle() const;
+  inline void set_attributehandle(::google::protobuf::uint32 value);
+
+  // required string attributeName = 2;
+  inline bool has_attributename() const;
+  inline void clear_attributename();
+  static const int kAttributeNameFieldNumber = 2;
+  inline const ::std::string& attributename() const;
+  inline void set_attributename(const ::std::string& value);
+  inline void set_attributename(const char* value);
+  inline void set_attributename(const char* value, size_t size);
+  inline ::std::string* mutable_attributename();
+  inline ::std::string* release_attributename();
+  inline void set_allocated_attributename(::std::string* attributename);
+
+  // repeated uint32 dimensionHandles = 3;
+  inline int dimensionhandles_size() const;
+  inline void clear_dimensionhandles();
+  static const int kDimensionHandlesFieldNumber = 3;
+  inline ::google::protobuf::uint32 dimensionhandles(int index) const;
+  inline void set_dimensionhandles(int index, ::google::protobuf::uint32 value);
+  inline void add_dimensionhandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      dimensionhandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_dimensionhandles();
+
+  // required uint32 transportationTypeHandle = 4;
+  inline bool has_transportationtypehandle() const;
+  inline void clear_transportationtypehandle();
+  static const int kTransportationTypeHandleFieldNumber = 4;
+  inline ::google::protobuf::uint32 transportationtypehandle() const;
+  inline void set_transportationtypehandle(::google::protobuf::uint32 value);
+
+  // required .ohla.rti.proto.OrderType orderType = 5;
+  inline bool has_ordertype() const;
+  inline void clear_ordertype();
+  static const int kOrderTypeFieldNumber = 5;
+  inline ::ohla::rti::proto::OrderType ordertype() const;
+  inline void set_ordertype(::ohla::rti::proto::OrderType value);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD.ObjectClass.Attribute)
+ private:
+  inline void set_has_attributehandle();
+  inline void clear_has_attributehandle();
+  inline void set_has_attributename();
+  inline void clear_has_attributename();
+  inline void set_has_transportationtypehandle();
+  inline void clear_has_transportationtypehandle();
+  inline void set_has_ordertype();
+  inline void clear_has_ordertype();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* attributename_;
+  ::google::protobuf::uint32 attributehandle_;
+  ::google::protobuf::uint32 transportationtypehandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > dimensionhandles_;
+  int ordertype_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(5 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FDD_ObjectClass_Attribute* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FDD_ObjectClass : public ::google::protobuf::Message {
+ public:
+  FDD_ObjectClass();
+  virtual ~FDD_ObjectClass();
+
+  FDD_ObjectClass(const FDD_ObjectClass& from);
+
+  inline FDD_ObjectClass& operator=(const FDD_ObjectClass& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FDD_ObjectClass& default_instance();
+
+  void Swap(FDD_ObjectClass* other);
+
+  // implements Message ----------------------------------------------
+
+  FDD_ObjectClass* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FDD_ObjectClass& from);
+  void MergeFrom(const FDD_ObjectClass& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FDD_ObjectClass_Attribute Attribute;
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 objectClassHandle = 1;
+  inline bool has_objectclasshandle() const;
+  inline void clear_objectclasshandle();
+  static const int kObjectClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 objectclasshandle() const;
+  inline void set_objectclasshandle(::google::protobuf::uint32 value);
+
+  // required string objectClassName = 2;
+  inline bool has_objectclassname() const;
+  inline void clear_objectclassname();
+  static const int kObjectClassNameFieldNumber = 2;
+  inline const ::std::string& objectclassname() const;
+  inline void set_objectclassname(const ::std::string& value);
+  inline void set_objectclassname(const char* value);
+  inline void set_objectclassname(const char* value, size_t size);
+  inline ::std::string* mutable_objectclassname();
+  inline ::std::string* release_objectclassname();
+  inline void set_allocated_objectclassname(::std::string* objectclassname);
+
+  // optional uint32 superObjectClassHandle = 3;
+  inline bool has_superobjectclasshandle() const;
+  inline void clear_superobjectclasshandle();
+  static const int kSuperObjectClassHandleFieldNumber = 3;
+  inline ::google::protobuf::uint32 superobjectclasshandle() const;
+  inline void set_superobjectclasshandle(::google::protobuf::uint32 value);
+
+  // repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;
+  inline int attributes_size() const;
+  inline void clear_attributes();
+  static const int kAttributesFieldNumber = 4;
+  inline const ::ohla::rti::proto::FDD_ObjectClass_Attribute& attributes(int index) const;
+  inline ::ohla::rti::proto::FDD_ObjectClass_Attribute* mutable_attributes(int index);
+  inline ::ohla::rti::proto::FDD_ObjectClass_Attribute* add_attributes();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_ObjectClass_Attribute >&
+      attributes() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_ObjectClass_Attribute >*
+      mutable_attributes();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD.ObjectClass)
+ private:
+  inline void set_has_objectclasshandle();
+  inline void clear_has_objectclasshandle();
+  inline void set_has_objectclassname();
+  inline void clear_has_objectclassname();
+  inline void set_has_superobjectclasshandle();
+  inline void clear_has_superobjectclasshandle();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* objectclassname_;
+  ::google::protobuf::uint32 objectclasshandle_;
+  ::google::protobuf::uint32 superobjectclasshandle_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_ObjectClass_Attribute > attributes_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FDD_ObjectClass* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FDD_InteractionClass_Parameter : public ::google::protobuf::Message {
+ public:
+  FDD_InteractionClass_Parameter();
+  virtual ~FDD_InteractionClass_Parameter();
+
+  FDD_InteractionClass_Parameter(const FDD_InteractionClass_Parameter& from);
+
+  inline FDD_InteractionClass_Parameter& operator=(const FDD_InteractionClass_Parameter& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FDD_InteractionClass_Parameter& default_instance();
+
+  void Swap(FDD_InteractionClass_Parameter* other);
+
+  // implements Message ----------------------------------------------
+
+  FDD_InteractionClass_Parameter* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FDD_InteractionClass_Parameter& from);
+  void MergeFrom(const FDD_InteractionClass_Parameter& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 parameterHandle = 1;
+  inline bool has_parameterhandle() const;
+  inline void clear_parameterhandle();
+  static const int kParameterHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 parameterhandle() const;
+  inline void set_parameterhandle(::google::protobuf::uint32 value);
+
+  // required string parameterName = 2;
+  inline bool has_parametername() const;
+  inline void clear_parametername();
+  static const int kParameterNameFieldNumber = 2;
+  inline const ::std::string& parametername() const;
+  inline void set_parametername(const ::std::string& value);
+  inline void set_parametername(const char* value);
+  inline void set_parametername(const char* value, size_t size);
+  inline ::std::string* mutable_parametername();
+  inline ::std::string* release_parametername();
+  inline void set_allocated_parametername(::std::string* parametername);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD.InteractionClass.Parameter)
+ private:
+  inline void set_has_parameterhandle();
+  inline void clear_has_parameterhandle();
+  inline void set_has_parametername();
+  inline void clear_has_parametername();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* parametername_;
+  ::google::protobuf::uint32 parameterhandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FDD_InteractionClass_Parameter* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FDD_InteractionClass : public ::google::protobuf::Message {
+ public:
+  FDD_InteractionClass();
+  virtual ~FDD_InteractionClass();
+
+  FDD_InteractionClass(const FDD_InteractionClass& from);
+
+  inline FDD_InteractionClass& operator=(const FDD_InteractionClass& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FDD_InteractionClass& default_instance();
+
+  void Swap(FDD_InteractionClass* other);
+
+  // implements Message ----------------------------------------------
+
+  FDD_InteractionClass* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FDD_InteractionClass& from);
+  void MergeFrom(const FDD_InteractionClass& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FDD_InteractionClass_Parameter Parameter;
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 interactionClassHandle = 1;
+  inline bool has_interactionclasshandle() const;
+  inline void clear_interactionclasshandle();
+  static const int kInteractionClassHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 interactionclasshandle() const;
+  inline void set_interactionclasshandle(::google::protobuf::uint32 value);
+
+  // required string interactionClassName = 2;
+  inline bool has_interactionclassname() const;
+  inline void clear_interactionclassname();
+  static const int kInteractionClassNameFieldNumber = 2;
+  inline const ::std::string& interactionclassname() const;
+  inline void set_interactionclassname(const ::std::string& value);
+  inline void set_interactionclassname(const char* value);
+  inline void set_interactionclassname(const char* value, size_t size);
+  inline ::std::string* mutable_interactionclassname();
+  inline ::std::string* release_interactionclassname();
+  inline void set_allocated_interactionclassname(::std::string* interactionclassname);
+
+  // optional uint32 superInteractionClassHandle = 3;
+  inline bool has_superinteractionclasshandle() const;
+  inline void clear_superinteractionclasshandle();
+  static const int kSuperInteractionClassHandleFieldNumber = 3;
+  inline ::google::protobuf::uint32 superinteractionclasshandle() const;
+  inline void set_superinteractionclasshandle(::google::protobuf::uint32 value);
+
+  // repeated uint32 dimensionHandles = 4;
+  inline int dimensionhandles_size() const;
+  inline void clear_dimensionhandles();
+  static const int kDimensionHandlesFieldNumber = 4;
+  inline ::google::protobuf::uint32 dimensionhandles(int index) const;
+  inline void set_dimensionhandles(int index, ::google::protobuf::uint32 value);
+  inline void add_dimensionhandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      dimensionhandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_dimensionhandles();
+
+  // required uint32 transportationTypeHandle = 5;
+  inline bool has_transportationtypehandle() const;
+  inline void clear_transportationtypehandle();
+  static const int kTransportationTypeHandleFieldNumber = 5;
+  inline ::google::protobuf::uint32 transportationtypehandle() const;
+  inline void set_transportationtypehandle(::google::protobuf::uint32 value);
+
+  // required .ohla.rti.proto.OrderType orderType = 6;
+  inline bool has_ordertype() const;
+  inline void clear_ordertype();
+  static const int kOrderTypeFieldNumber = 6;
+  inline ::ohla::rti::proto::OrderType ordertype() const;
+  inline void set_ordertype(::ohla::rti::proto::OrderType value);
+
+  // repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;
+  inline int parameters_size() const;
+  inline void clear_parameters();
+  static const int kParametersFieldNumber = 7;
+  inline const ::ohla::rti::proto::FDD_InteractionClass_Parameter& parameters(int index) const;
+  inline ::ohla::rti::proto::FDD_InteractionClass_Parameter* mutable_parameters(int index);
+  inline ::ohla::rti::proto::FDD_InteractionClass_Parameter* add_parameters();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_InteractionClass_Parameter >&
+      parameters() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_InteractionClass_Parameter >*
+      mutable_parameters();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD.InteractionClass)
+ private:
+  inline void set_has_interactionclasshandle();
+  inline void clear_has_interactionclasshandle();
+  inline void set_has_interactionclassname();
+  inline void clear_has_interactionclassname();
+  inline void set_has_superinteractionclasshandle();
+  inline void clear_has_superinteractionclasshandle();
+  inline void set_has_transportationtypehandle();
+  inline void clear_has_transportationtypehandle();
+  inline void set_has_ordertype();
+  inline void clear_has_ordertype();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* interactionclassname_;
+  ::google::protobuf::uint32 interactionclasshandle_;
+  ::google::protobuf::uint32 superinteractionclasshandle_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > dimensionhandles_;
+  ::google::protobuf::uint32 transportationtypehandle_;
+  int ordertype_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_InteractionClass_Parameter > parameters_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(7 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FDD_InteractionClass* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FDD_FED_RoutingSpace : public ::google::protobuf::Message {
+ public:
+  FDD_FED_RoutingSpace();
+  virtual ~FDD_FED_RoutingSpace();
+
+  FDD_FED_RoutingSpace(const FDD_FED_RoutingSpace& from);
+
+  inline FDD_FED_RoutingSpace& operator=(const FDD_FED_RoutingSpace& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FDD_FED_RoutingSpace& default_instance();
+
+  void Swap(FDD_FED_RoutingSpace* other);
+
+  // implements Message ----------------------------------------------
+
+  FDD_FED_RoutingSpace* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FDD_FED_RoutingSpace& from);
+  void MergeFrom(const FDD_FED_RoutingSpace& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 routingSpaceHandle = 1;
+  inline bool has_routingspacehandle() const;
+  inline void clear_routingspacehandle();
+  static const int kRoutingSpaceHandleFieldNumber = 1;
+  inline ::google::protobuf::uint32 routingspacehandle() const;
+  inline void set_routingspacehandle(::google::protobuf::uint32 value);
+
+  // required string routingSpaceName = 2;
+  inline bool has_routingspacename() const;
+  inline void clear_routingspacename();
+  static const int kRoutingSpaceNameFieldNumber = 2;
+  inline const ::std::string& routingspacename() const;
+  inline void set_routingspacename(const ::std::string& value);
+  inline void set_routingspacename(const char* value);
+  inline void set_routingspacename(const char* value, size_t size);
+  inline ::std::string* mutable_routingspacename();
+  inline ::std::string* release_routingspacename();
+  inline void set_allocated_routingspacename(::std::string* routingspacename);
+
+  // repeated uint32 dimensionHandles = 3;
+  inline int dimensionhandles_size() const;
+  inline void clear_dimensionhandles();
+  static const int kDimensionHandlesFieldNumber = 3;
+  inline ::google::protobuf::uint32 dimensionhandles(int index) const;
+  inline void set_dimensionhandles(int index, ::google::protobuf::uint32 value);
+  inline void add_dimensionhandles(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      dimensionhandles() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_dimensionhandles();
+
+  // repeated string aliases = 4;
+  inline int aliases_size() const;
+  inline void clear_aliases();
+  static const int kAliasesFieldNumber = 4;
+  inline const ::std::string& aliases(int index) const;
+  inline ::std::string* mutable_aliases(int index);
+  inline void set_aliases(int index, const ::std::string& value);
+  inline void set_aliases(int index, const char* value);
+  inline void set_aliases(int index, const char* value, size_t size);
+  inline ::std::string* add_aliases();
+  inline void add_aliases(const ::std::string& value);
+  inline void add_aliases(const char* value);
+  inline void add_aliases(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& aliases() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_aliases();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD.FED.RoutingSpace)
+ private:
+  inline void set_has_routingspacehandle();
+  inline void clear_has_routingspacehandle();
+  inline void set_has_routingspacename();
+  inline void clear_has_routingspacename();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* routingspacename_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > dimensionhandles_;
+  ::google::protobuf::RepeatedPtrField< ::std::string> aliases_;
+  ::google::protobuf::uint32 routingspacehandle_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FDD_FED_RoutingSpace* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FDD_FED : public ::google::protobuf::Message {
+ public:
+  FDD_FED();
+  virtual ~FDD_FED();
+
+  FDD_FED(const FDD_FED& from);
+
+  inline FDD_FED& operator=(const FDD_FED& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FDD_FED& default_instance();
+
+  void Swap(FDD_FED* other);
+
+  // implements Message ----------------------------------------------
+
+  FDD_FED* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FDD_FED& from);
+  void MergeFrom(const FDD_FED& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FDD_FED_RoutingSpace RoutingSpace;
+
+  // accessors -------------------------------------------------------
+
+  // optional string fedName = 1;
+  inline bool has_fedname() const;
+  inline void clear_fedname();
+  static const int kFedNameFieldNumber = 1;
+  inline const ::std::string& fedname() const;
+  inline void set_fedname(const ::std::string& value);
+  inline void set_fedname(const char* value);
+  inline void set_fedname(const char* value, size_t size);
+  inline ::std::string* mutable_fedname();
+  inline ::std::string* release_fedname();
+  inline void set_allocated_fedname(::std::string* fedname);
+
+  // repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;
+  inline int routingspace_size() const;
+  inline void clear_routingspace();
+  static const int kRoutingSpaceFieldNumber = 2;
+  inline const ::ohla::rti::proto::FDD_FED_RoutingSpace& routingspace(int index) const;
+  inline ::ohla::rti::proto::FDD_FED_RoutingSpace* mutable_routingspace(int index);
+  inline ::ohla::rti::proto::FDD_FED_RoutingSpace* add_routingspace();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_FED_RoutingSpace >&
+      routingspace() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_FED_RoutingSpace >*
+      mutable_routingspace();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD.FED)
+ private:
+  inline void set_has_fedname();
+  inline void clear_has_fedname();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* fedname_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_FED_RoutingSpace > routingspace_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FDD_FED* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class FDD : public ::google::protobuf::Message {
+ public:
+  FDD();
+  virtual ~FDD();
+
+  FDD(const FDD& from);
+
+  inline FDD& operator=(const FDD& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const FDD& default_instance();
+
+  void Swap(FDD* other);
+
+  // implements Message ----------------------------------------------
+
+  FDD* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const FDD& from);
+  void MergeFrom(const FDD& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  typedef FDD_Dimension Dimension;
+  typedef FDD_ObjectClass ObjectClass;
+  typedef FDD_InteractionClass InteractionClass;
+  typedef FDD_FED FED;
+
+  // accessors -------------------------------------------------------
+
+  // repeated string sources = 1;
+  inline int sources_size() const;
+  inline void clear_sources();
+  static const int kSourcesFieldNumber = 1;
+  inline const ::std::string& sources(int index) const;
+  inline ::std::string* mutable_sources(int index);
+  inline void set_sources(int index, const ::std::string& value);
+  inline void set_sources(int index, const char* value);
+  inline void set_sources(int index, const char* value, size_t size);
+  inline ::std::string* add_sources();
+  inline void add_sources(const ::std::string& value);
+  inline void add_sources(const char* value);
+  inline void add_sources(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& sources() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_sources();
+
+  // repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;
+  inline int objectclasses_size() const;
+  inline void clear_objectclasses();
+  static const int kObjectClassesFieldNumber = 2;
+  inline const ::ohla::rti::proto::FDD_ObjectClass& objectclasses(int index) const;
+  inline ::ohla::rti::proto::FDD_ObjectClass* mutable_objectclasses(int index);
+  inline ::ohla::rti::proto::FDD_ObjectClass* add_objectclasses();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_ObjectClass >&
+      objectclasses() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_ObjectClass >*
+      mutable_objectclasses();
+
+  // repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;
+  inline int interactionclasses_size() const;
+  inline void clear_interactionclasses();
+  static const int kInteractionClassesFieldNumber = 3;
+  inline const ::ohla::rti::proto::FDD_InteractionClass& interactionclasses(int index) const;
+  inline ::ohla::rti::proto::FDD_InteractionClass* mutable_interactionclasses(int index);
+  inline ::ohla::rti::proto::FDD_InteractionClass* add_interactionclasses();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_InteractionClass >&
+      interactionclasses() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_InteractionClass >*
+      mutable_interactionclasses();
+
+  // repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;
+  inline int dimensions_size() const;
+  inline void clear_dimensions();
+  static const int kDimensionsFieldNumber = 4;
+  inline const ::ohla::rti::proto::FDD_Dimension& dimensions(int index) const;
+  inline ::ohla::rti::proto::FDD_Dimension* mutable_dimensions(int index);
+  inline ::ohla::rti::proto::FDD_Dimension* add_dimensions();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_Dimension >&
+      dimensions() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_Dimension >*
+      mutable_dimensions();
+
+  // required .ohla.rti.proto.FDD.FED fed = 5;
+  inline bool has_fed() const;
+  inline void clear_fed();
+  static const int kFedFieldNumber = 5;
+  inline const ::ohla::rti::proto::FDD_FED& fed() const;
+  inline ::ohla::rti::proto::FDD_FED* mutable_fed();
+  inline ::ohla::rti::proto::FDD_FED* release_fed();
+  inline void set_allocated_fed(::ohla::rti::proto::FDD_FED* fed);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD)
+ private:
+  inline void set_has_fed();
+  inline void clear_has_fed();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::std::string> sources_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_ObjectClass > objectclasses_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_InteractionClass > interactionclasses_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_Dimension > dimensions_;
+  ::ohla::rti::proto::FDD_FED* fed_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(5 + 31) / 32];
+
+  friend void  protobuf_AddDesc_OHLAProtos_2eproto();
+  friend void protobuf_AssignDesc_OHLAProtos_2eproto();
+  friend void protobuf_ShutdownFile_OHLAProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static FDD* default_instance_;
+};
+// ===================================================================
+
+
+// ===================================================================
+
+// MessageRetractionHandle
+
+// required uint32 federateHandle = 1;
+inline bool MessageRetractionHandle::has_federatehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void MessageRetractionHandle::set_has_federatehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void MessageRetractionHandle::clear_has_federatehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void MessageRetractionHandle::clear_federatehandle() {
+  federatehandle_ = 0u;
+  clear_has_federatehandle();
+}
+inline ::google::protobuf::uint32 MessageRetractionHandle::federatehandle() const {
+  return federatehandle_;
+}
+inline void MessageRetractionHandle::set_federatehandle(::google::protobuf::uint32 value) {
+  set_has_federatehandle();
+  federatehandle_ = value;
+}
+
+// required uint64 messageRetractionHandle = 2;
+inline bool MessageRetractionHandle::has_messageretractionhandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void MessageRetractionHandle::set_has_messageretractionhandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void MessageRetractionHandle::clear_has_messageretractionhandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void MessageRetractionHandle::clear_messageretractionhandle() {
+  messageretractionhandle_ = GOOGLE_ULONGLONG(0);
+  clear_has_messageretractionhandle();
+}
+inline ::google::protobuf::uint64 MessageRetractionHandle::messageretractionhandle() const {
+  return messageretractionhandle_;
+}
+inline void MessageRetractionHandle::set_messageretractionhandle(::google::protobuf::uint64 value) {
+  set_has_messageretractionhandle();
+  messageretractionhandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// ObjectInstanceHandle
+
+// required uint32 federateHandle = 1;
+inline bool ObjectInstanceHandle::has_federatehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ObjectInstanceHandle::set_has_federatehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ObjectInstanceHandle::clear_has_federatehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ObjectInstanceHandle::clear_federatehandle() {
+  federatehandle_ = 0u;
+  clear_has_federatehandle();
+}
+inline ::google::protobuf::uint32 ObjectInstanceHandle::federatehandle() const {
+  return federatehandle_;
+}
+inline void ObjectInstanceHandle::set_federatehandle(::google::protobuf::uint32 value) {
+  set_has_federatehandle();
+  federatehandle_ = value;
+}
+
+// required uint64 objectInstanceHandle = 2;
+inline bool ObjectInstanceHandle::has_objectinstancehandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void ObjectInstanceHandle::set_has_objectinstancehandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void ObjectInstanceHandle::clear_has_objectinstancehandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void ObjectInstanceHandle::clear_objectinstancehandle() {
+  objectinstancehandle_ = GOOGLE_ULONGLONG(0);
+  clear_has_objectinstancehandle();
+}
+inline ::google::protobuf::uint64 ObjectInstanceHandle::objectinstancehandle() const {
+  return objectinstancehandle_;
+}
+inline void ObjectInstanceHandle::set_objectinstancehandle(::google::protobuf::uint64 value) {
+  set_has_objectinstancehandle();
+  objectinstancehandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// RegionHandle
+
+// required uint32 federateHandle = 1;
+inline bool RegionHandle::has_federatehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RegionHandle::set_has_federatehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RegionHandle::clear_has_federatehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RegionHandle::clear_federatehandle() {
+  federatehandle_ = 0u;
+  clear_has_federatehandle();
+}
+inline ::google::protobuf::uint32 RegionHandle::federatehandle() const {
+  return federatehandle_;
+}
+inline void RegionHandle::set_federatehandle(::google::protobuf::uint32 value) {
+  set_has_federatehandle();
+  federatehandle_ = value;
+}
+
+// required uint32 regionHandle = 2;
+inline bool RegionHandle::has_regionhandle() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void RegionHandle::set_has_regionhandle() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void RegionHandle::clear_has_regionhandle() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void RegionHandle::clear_regionhandle() {
+  regionhandle_ = 0u;
+  clear_has_regionhandle();
+}
+inline ::google::protobuf::uint32 RegionHandle::regionhandle() const {
+  return regionhandle_;
+}
+inline void RegionHandle::set_regionhandle(::google::protobuf::uint32 value) {
+  set_has_regionhandle();
+  regionhandle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// DimensionRangeBound
+
+// required uint32 dimensionHandle = 1;
+inline bool DimensionRangeBound::has_dimensionhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void DimensionRangeBound::set_has_dimensionhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void DimensionRangeBound::clear_has_dimensionhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void DimensionRangeBound::clear_dimensionhandle() {
+  dimensionhandle_ = 0u;
+  clear_has_dimensionhandle();
+}
+inline ::google::protobuf::uint32 DimensionRangeBound::dimensionhandle() const {
+  return dimensionhandle_;
+}
+inline void DimensionRangeBound::set_dimensionhandle(::google::protobuf::uint32 value) {
+  set_has_dimensionhandle();
+  dimensionhandle_ = value;
+}
+
+// required uint64 lowerBound = 2;
+inline bool DimensionRangeBound::has_lowerbound() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void DimensionRangeBound::set_has_lowerbound() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void DimensionRangeBound::clear_has_lowerbound() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void DimensionRangeBound::clear_lowerbound() {
+  lowerbound_ = GOOGLE_ULONGLONG(0);
+  clear_has_lowerbound();
+}
+inline ::google::protobuf::uint64 DimensionRangeBound::lowerbound() const {
+  return lowerbound_;
+}
+inline void DimensionRangeBound::set_lowerbound(::google::protobuf::uint64 value) {
+  set_has_lowerbound();
+  lowerbound_ = value;
+}
+
+// required uint64 upperBound = 3;
+inline bool DimensionRangeBound::has_upperbound() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void DimensionRangeBound::set_has_upperbound() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void DimensionRangeBound::clear_has_upperbound() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void DimensionRangeBound::clear_upperbound() {
+  upperbound_ = GOOGLE_ULONGLONG(0);
+  clear_has_upperbound();
+}
+inline ::google::protobuf::uint64 DimensionRangeBound::upperbound() const {
+  return upperbound_;
+}
+inline void DimensionRangeBound::set_upperbound(::google::protobuf::uint64 value) {
+  set_has_upperbound();
+  upperbound_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// PublishedObjectClass
+
+// required uint32 objectClassHandle = 1;
+inline bool PublishedObjectClass::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void PublishedObjectClass::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void PublishedObjectClass::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void PublishedObjectClass::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 PublishedObjectClass::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void PublishedObjectClass::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// repeated uint32 attributeHandles = 2;
+inline int PublishedObjectClass::attributehandles_size() const {
+  return attributehandles_.size();
+}
+inline void PublishedObjectClass::clear_attributehandles() {
+  attributehandles_.Clear();
+}
+inline ::google::protobuf::uint32 PublishedObjectClass::attributehandles(int index) const {
+  return attributehandles_.Get(index);
+}
+inline void PublishedObjectClass::set_attributehandles(int index, ::google::protobuf::uint32 value) {
+  attributehandles_.Set(index, value);
+}
+inline void PublishedObjectClass::add_attributehandles(::google::protobuf::uint32 value) {
+  attributehandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+PublishedObjectClass::attributehandles() const {
+  return attributehandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+PublishedObjectClass::mutable_attributehandles() {
+  return &attributehandles_;
+}
+
+// -------------------------------------------------------------------
+
+// RegionSubscription
+
+// required .ohla.rti.proto.RegionHandle regionHandle = 1;
+inline bool RegionSubscription::has_regionhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RegionSubscription::set_has_regionhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RegionSubscription::clear_has_regionhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RegionSubscription::clear_regionhandle() {
+  if (regionhandle_ != NULL) regionhandle_->::ohla::rti::proto::RegionHandle::Clear();
+  clear_has_regionhandle();
+}
+inline const ::ohla::rti::proto::RegionHandle& RegionSubscription::regionhandle() const {
+  return regionhandle_ != NULL ? *regionhandle_ : *default_instance_->regionhandle_;
+}
+inline ::ohla::rti::proto::RegionHandle* RegionSubscription::mutable_regionhandle() {
+  set_has_regionhandle();
+  if (regionhandle_ == NULL) regionhandle_ = new ::ohla::rti::proto::RegionHandle;
+  return regionhandle_;
+}
+inline ::ohla::rti::proto::RegionHandle* RegionSubscription::release_regionhandle() {
+  clear_has_regionhandle();
+  ::ohla::rti::proto::RegionHandle* temp = regionhandle_;
+  regionhandle_ = NULL;
+  return temp;
+}
+inline void RegionSubscription::set_allocated_regionhandle(::ohla::rti::proto::RegionHandle* regionhandle) {
+  delete regionhandle_;
+  regionhandle_ = regionhandle;
+  if (regionhandle) {
+    set_has_regionhandle();
+  } else {
+    clear_has_regionhandle();
+  }
+}
+
+// required bool passive = 2;
+inline bool RegionSubscription::has_passive() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void RegionSubscription::set_has_passive() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void RegionSubscription::clear_has_passive() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void RegionSubscription::clear_passive() {
+  passive_ = false;
+  clear_has_passive();
+}
+inline bool RegionSubscription::passive() const {
+  return passive_;
+}
+inline void RegionSubscription::set_passive(bool value) {
+  set_has_passive();
+  passive_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// AttributeSubscription
+
+// required uint32 attributeHandle = 1;
+inline bool AttributeSubscription::has_attributehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void AttributeSubscription::set_has_attributehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void AttributeSubscription::clear_has_attributehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void AttributeSubscription::clear_attributehandle() {
+  attributehandle_ = 0u;
+  clear_has_attributehandle();
+}
+inline ::google::protobuf::uint32 AttributeSubscription::attributehandle() const {
+  return attributehandle_;
+}
+inline void AttributeSubscription::set_attributehandle(::google::protobuf::uint32 value) {
+  set_has_attributehandle();
+  attributehandle_ = value;
+}
+
+// required bool defaultRegionSubscribed = 2;
+inline bool AttributeSubscription::has_defaultregionsubscribed() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void AttributeSubscription::set_has_defaultregionsubscribed() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void AttributeSubscription::clear_has_defaultregionsubscribed() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void AttributeSubscription::clear_defaultregionsubscribed() {
+  defaultregionsubscribed_ = false;
+  clear_has_defaultregionsubscribed();
+}
+inline bool AttributeSubscription::defaultregionsubscribed() const {
+  return defaultregionsubscribed_;
+}
+inline void AttributeSubscription::set_defaultregionsubscribed(bool value) {
+  set_has_defaultregionsubscribed();
+  defaultregionsubscribed_ = value;
+}
+
+// required bool defaultRegionSubscriptionPassive = 3;
+inline bool AttributeSubscription::has_defaultregionsubscriptionpassive() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void AttributeSubscription::set_has_defaultregionsubscriptionpassive() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void AttributeSubscription::clear_has_defaultregionsubscriptionpassive() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void AttributeSubscription::clear_defaultregionsubscriptionpassive() {
+  defaultregionsubscriptionpassive_ = false;
+  clear_has_defaultregionsubscriptionpassive();
+}
+inline bool AttributeSubscription::defaultregionsubscriptionpassive() const {
+  return defaultregionsubscriptionpassive_;
+}
+inline void AttributeSubscription::set_defaultregionsubscriptionpassive(bool value) {
+  set_has_defaultregionsubscriptionpassive();
+  defaultregionsubscriptionpassive_ = value;
+}
+
+// repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+inline int AttributeSubscription::regionsubscriptions_size() const {
+  return regionsubscriptions_.size();
+}
+inline void AttributeSubscription::clear_regionsubscriptions() {
+  regionsubscriptions_.Clear();
+}
+inline const ::ohla::rti::proto::RegionSubscription& AttributeSubscription::regionsubscriptions(int index) const {
+  return regionsubscriptions_.Get(index);
+}
+inline ::ohla::rti::proto::RegionSubscription* AttributeSubscription::mutable_regionsubscriptions(int index) {
+  return regionsubscriptions_.Mutable(index);
+}
+inline ::ohla::rti::proto::RegionSubscription* AttributeSubscription::add_regionsubscriptions() {
+  return regionsubscriptions_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionSubscription >&
+AttributeSubscription::regionsubscriptions() const {
+  return regionsubscriptions_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionSubscription >*
+AttributeSubscription::mutable_regionsubscriptions() {
+  return &regionsubscriptions_;
+}
+
+// -------------------------------------------------------------------
+
+// ObjectClassSubscription
+
+// required uint32 objectClassHandle = 1;
+inline bool ObjectClassSubscription::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ObjectClassSubscription::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ObjectClassSubscription::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ObjectClassSubscription::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 ObjectClassSubscription::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void ObjectClassSubscription::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;
+inline int ObjectClassSubscription::attributesubscription_size() const {
+  return attributesubscription_.size();
+}
+inline void ObjectClassSubscription::clear_attributesubscription() {
+  attributesubscription_.Clear();
+}
+inline const ::ohla::rti::proto::AttributeSubscription& ObjectClassSubscription::attributesubscription(int index) const {
+  return attributesubscription_.Get(index);
+}
+inline ::ohla::rti::proto::AttributeSubscription* ObjectClassSubscription::mutable_attributesubscription(int index) {
+  return attributesubscription_.Mutable(index);
+}
+inline ::ohla::rti::proto::AttributeSubscription* ObjectClassSubscription::add_attributesubscription() {
+  return attributesubscription_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::AttributeSubscription >&
+ObjectClassSubscription::attributesubscription() const {
+  return attributesubscription_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::AttributeSubscription >*
+ObjectClassSubscription::mutable_attributesubscription() {
+  return &attributesubscription_;
+}
+
+// -------------------------------------------------------------------
+
+// InteractionClassSubscription
+
+// required uint32 interactionClassHandle = 1;
+inline bool InteractionClassSubscription::has_interactionclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void InteractionClassSubscription::set_has_interactionclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void InteractionClassSubscription::clear_has_interactionclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void InteractionClassSubscription::clear_interactionclasshandle() {
+  interactionclasshandle_ = 0u;
+  clear_has_interactionclasshandle();
+}
+inline ::google::protobuf::uint32 InteractionClassSubscription::interactionclasshandle() const {
+  return interactionclasshandle_;
+}
+inline void InteractionClassSubscription::set_interactionclasshandle(::google::protobuf::uint32 value) {
+  set_has_interactionclasshandle();
+  interactionclasshandle_ = value;
+}
+
+// required bool defaultRegionSubscribed = 2;
+inline bool InteractionClassSubscription::has_defaultregionsubscribed() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void InteractionClassSubscription::set_has_defaultregionsubscribed() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void InteractionClassSubscription::clear_has_defaultregionsubscribed() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void InteractionClassSubscription::clear_defaultregionsubscribed() {
+  defaultregionsubscribed_ = false;
+  clear_has_defaultregionsubscribed();
+}
+inline bool InteractionClassSubscription::defaultregionsubscribed() const {
+  return defaultregionsubscribed_;
+}
+inline void InteractionClassSubscription::set_defaultregionsubscribed(bool value) {
+  set_has_defaultregionsubscribed();
+  defaultregionsubscribed_ = value;
+}
+
+// required bool defaultRegionSubscriptionPassive = 3;
+inline bool InteractionClassSubscription::has_defaultregionsubscriptionpassive() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void InteractionClassSubscription::set_has_defaultregionsubscriptionpassive() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void InteractionClassSubscription::clear_has_defaultregionsubscriptionpassive() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void InteractionClassSubscription::clear_defaultregionsubscriptionpassive() {
+  defaultregionsubscriptionpassive_ = false;
+  clear_has_defaultregionsubscriptionpassive();
+}
+inline bool InteractionClassSubscription::defaultregionsubscriptionpassive() const {
+  return defaultregionsubscriptionpassive_;
+}
+inline void InteractionClassSubscription::set_defaultregionsubscriptionpassive(bool value) {
+  set_has_defaultregionsubscriptionpassive();
+  defaultregionsubscriptionpassive_ = value;
+}
+
+// repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+inline int InteractionClassSubscription::regionsubscriptions_size() const {
+  return regionsubscriptions_.size();
+}
+inline void InteractionClassSubscription::clear_regionsubscriptions() {
+  regionsubscriptions_.Clear();
+}
+inline const ::ohla::rti::proto::RegionSubscription& InteractionClassSubscription::regionsubscriptions(int index) const {
+  return regionsubscriptions_.Get(index);
+}
+inline ::ohla::rti::proto::RegionSubscription* InteractionClassSubscription::mutable_regionsubscriptions(int index) {
+  return regionsubscriptions_.Mutable(index);
+}
+inline ::ohla::rti::proto::RegionSubscription* InteractionClassSubscription::add_regionsubscriptions() {
+  return regionsubscriptions_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionSubscription >&
+InteractionClassSubscription::regionsubscriptions() const {
+  return regionsubscriptions_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::RegionSubscription >*
+InteractionClassSubscription::mutable_regionsubscriptions() {
+  return &regionsubscriptions_;
+}
+
+// -------------------------------------------------------------------
+
+// SubscriptionManagerState
+
+// repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;
+inline int SubscriptionManagerState::objectclasssubscriptions_size() const {
+  return objectclasssubscriptions_.size();
+}
+inline void SubscriptionManagerState::clear_objectclasssubscriptions() {
+  objectclasssubscriptions_.Clear();
+}
+inline const ::ohla::rti::proto::ObjectClassSubscription& SubscriptionManagerState::objectclasssubscriptions(int index) const {
+  return objectclasssubscriptions_.Get(index);
+}
+inline ::ohla::rti::proto::ObjectClassSubscription* SubscriptionManagerState::mutable_objectclasssubscriptions(int index) {
+  return objectclasssubscriptions_.Mutable(index);
+}
+inline ::ohla::rti::proto::ObjectClassSubscription* SubscriptionManagerState::add_objectclasssubscriptions() {
+  return objectclasssubscriptions_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectClassSubscription >&
+SubscriptionManagerState::objectclasssubscriptions() const {
+  return objectclasssubscriptions_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::ObjectClassSubscription >*
+SubscriptionManagerState::mutable_objectclasssubscriptions() {
+  return &objectclasssubscriptions_;
+}
+
+// repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;
+inline int SubscriptionManagerState::interactionclasssubscriptions_size() const {
+  return interactionclasssubscriptions_.size();
+}
+inline void SubscriptionManagerState::clear_interactionclasssubscriptions() {
+  interactionclasssubscriptions_.Clear();
+}
+inline const ::ohla::rti::proto::InteractionClassSubscription& SubscriptionManagerState::interactionclasssubscriptions(int index) const {
+  return interactionclasssubscriptions_.Get(index);
+}
+inline ::ohla::rti::proto::InteractionClassSubscription* SubscriptionManagerState::mutable_interactionclasssubscriptions(int index) {
+  return interactionclasssubscriptions_.Mutable(index);
+}
+inline ::ohla::rti::proto::InteractionClassSubscription* SubscriptionManagerState::add_interactionclasssubscriptions() {
+  return interactionclasssubscriptions_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::InteractionClassSubscription >&
+SubscriptionManagerState::interactionclasssubscriptions() const {
+  return interactionclasssubscriptions_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::InteractionClassSubscription >*
+SubscriptionManagerState::mutable_interactionclasssubscriptions() {
+  return &interactionclasssubscriptions_;
+}
+
+// -------------------------------------------------------------------
+
+// FDD_Dimension
+
+// required uint32 dimensionHandle = 1;
+inline bool FDD_Dimension::has_dimensionhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FDD_Dimension::set_has_dimensionhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FDD_Dimension::clear_has_dimensionhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FDD_Dimension::clear_dimensionhandle() {
+  dimensionhandle_ = 0u;
+  clear_has_dimensionhandle();
+}
+inline ::google::protobuf::uint32 FDD_Dimension::dimensionhandle() const {
+  return dimensionhandle_;
+}
+inline void FDD_Dimension::set_dimensionhandle(::google::protobuf::uint32 value) {
+  set_has_dimensionhandle();
+  dimensionhandle_ = value;
+}
+
+// required string dimensionName = 2;
+inline bool FDD_Dimension::has_dimensionname() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FDD_Dimension::set_has_dimensionname() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FDD_Dimension::clear_has_dimensionname() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FDD_Dimension::clear_dimensionname() {
+  if (dimensionname_ != &::google::protobuf::internal::kEmptyString) {
+    dimensionname_->clear();
+  }
+  clear_has_dimensionname();
+}
+inline const ::std::string& FDD_Dimension::dimensionname() const {
+  return *dimensionname_;
+}
+inline void FDD_Dimension::set_dimensionname(const ::std::string& value) {
+  set_has_dimensionname();
+  if (dimensionname_ == &::google::protobuf::internal::kEmptyString) {
+    dimensionname_ = new ::std::string;
+  }
+  dimensionname_->assign(value);
+}
+inline void FDD_Dimension::set_dimensionname(const char* value) {
+  set_has_dimensionname();
+  if (dimensionname_ == &::google::protobuf::internal::kEmptyString) {
+    dimensionname_ = new ::std::string;
+  }
+  dimensionname_->assign(value);
+}
+inline void FDD_Dimension::set_dimensionname(const char* value, size_t size) {
+  set_has_dimensionname();
+  if (dimensionname_ == &::google::protobuf::internal::kEmptyString) {
+    dimensionname_ = new ::std::string;
+  }
+  dimensionname_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FDD_Dimension::mutable_dimensionname() {
+  set_has_dimensionname();
+  if (dimensionname_ == &::google::protobuf::internal::kEmptyString) {
+    dimensionname_ = new ::std::string;
+  }
+  return dimensionname_;
+}
+inline ::std::string* FDD_Dimension::release_dimensionname() {
+  clear_has_dimensionname();
+  if (dimensionname_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = dimensionname_;
+    dimensionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FDD_Dimension::set_allocated_dimensionname(::std::string* dimensionname) {
+  if (dimensionname_ != &::google::protobuf::internal::kEmptyString) {
+    delete dimensionname_;
+  }
+  if (dimensionname) {
+    set_has_dimensionname();
+    dimensionname_ = dimensionname;
+  } else {
+    clear_has_dimensionname();
+    dimensionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required uint64 upperBound = 3;
+inline bool FDD_Dimension::has_upperbound() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FDD_Dimension::set_has_upperbound() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FDD_Dimension::clear_has_upperbound() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FDD_Dimension::clear_upperbound() {
+  upperbound_ = GOOGLE_ULONGLONG(0);
+  clear_has_upperbound();
+}
+inline ::google::protobuf::uint64 FDD_Dimension::upperbound() const {
+  return upperbound_;
+}
+inline void FDD_Dimension::set_upperbound(::google::protobuf::uint64 value) {
+  set_has_upperbound();
+  upperbound_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FDD_ObjectClass_Attribute
+
+// required uint32 attributeHandle = 1;
+inline bool FDD_ObjectClass_Attribute::has_attributehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FDD_ObjectClass_Attribute::set_has_attributehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FDD_ObjectClass_Attribute::clear_has_attributehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FDD_ObjectClass_Attribute::clear_attributehandle() {
+  attributehandle_ = 0u;
+  clear_has_attributehandle();
+}
+inline ::google::protobuf::uint32 FDD_ObjectClass_Attribute::attributehandle() const {
+  return attributehandle_;
+}
+inline void FDD_ObjectClass_Attribute::set_attributehandle(::google::protobuf::uint32 value) {
+  set_has_attributehandle();
+  attributehandle_ = value;
+}
+
+// required string attributeName = 2;
+inline bool FDD_ObjectClass_Attribute::has_attributename() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FDD_ObjectClass_Attribute::set_has_attributename() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FDD_ObjectClass_Attribute::clear_has_attributename() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FDD_ObjectClass_Attribute::clear_attributename() {
+  if (attributename_ != &::google::protobuf::internal::kEmptyString) {
+    attributename_->clear();
+  }
+  clear_has_attributename();
+}
+inline const ::std::string& FDD_ObjectClass_Attribute::attributename() const {
+  return *attributename_;
+}
+inline void FDD_ObjectClass_Attribute::set_attributename(const ::std::string& value) {
+  set_has_attributename();
+  if (attributename_ == &::google::protobuf::internal::kEmptyString) {
+    attributename_ = new ::std::string;
+  }
+  attributename_->assign(value);
+}
+inline void FDD_ObjectClass_Attribute::set_attributename(const char* value) {
+  set_has_attributename();
+  if (attributename_ == &::google::protobuf::internal::kEmptyString) {
+    attributename_ = new ::std::string;
+  }
+  attributename_->assign(value);
+}
+inline void FDD_ObjectClass_Attribute::set_attributename(const char* value, size_t size) {
+  set_has_attributename();
+  if (attributename_ == &::google::protobuf::internal::kEmptyString) {
+    attributename_ = new ::std::string;
+  }
+  attributename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FDD_ObjectClass_Attribute::mutable_attributename() {
+  set_has_attributename();
+  if (attributename_ == &::google::protobuf::internal::kEmptyString) {
+    attributename_ = new ::std::string;
+  }
+  return attributename_;
+}
+inline ::std::string* FDD_ObjectClass_Attribute::release_attributename() {
+  clear_has_attributename();
+  if (attributename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = attributename_;
+    attributename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FDD_ObjectClass_Attribute::set_allocated_attributename(::std::string* attributename) {
+  if (attributename_ != &::google::protobuf::internal::kEmptyString) {
+    delete attributename_;
+  }
+  if (attributename) {
+    set_has_attributename();
+    attributename_ = attributename;
+  } else {
+    clear_has_attributename();
+    attributename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// repeated uint32 dimensionHandles = 3;
+inline int FDD_ObjectClass_Attribute::dimensionhandles_size() const {
+  return dimensionhandles_.size();
+}
+inline void FDD_ObjectClass_Attribute::clear_dimensionhandles() {
+  dimensionhandles_.Clear();
+}
+inline ::google::protobuf::uint32 FDD_ObjectClass_Attribute::dimensionhandles(int index) const {
+  return dimensionhandles_.Get(index);
+}
+inline void FDD_ObjectClass_Attribute::set_dimensionhandles(int index, ::google::protobuf::uint32 value) {
+  dimensionhandles_.Set(index, value);
+}
+inline void FDD_ObjectClass_Attribute::add_dimensionhandles(::google::protobuf::uint32 value) {
+  dimensionhandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FDD_ObjectClass_Attribute::dimensionhandles() const {
+  return dimensionhandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FDD_ObjectClass_Attribute::mutable_dimensionhandles() {
+  return &dimensionhandles_;
+}
+
+// required uint32 transportationTypeHandle = 4;
+inline bool FDD_ObjectClass_Attribute::has_transportationtypehandle() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void FDD_ObjectClass_Attribute::set_has_transportationtypehandle() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void FDD_ObjectClass_Attribute::clear_has_transportationtypehandle() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void FDD_ObjectClass_Attribute::clear_transportationtypehandle() {
+  transportationtypehandle_ = 0u;
+  clear_has_transportationtypehandle();
+}
+inline ::google::protobuf::uint32 FDD_ObjectClass_Attribute::transportationtypehandle() const {
+  return transportationtypehandle_;
+}
+inline void FDD_ObjectClass_Attribute::set_transportationtypehandle(::google::protobuf::uint32 value) {
+  set_has_transportationtypehandle();
+  transportationtypehandle_ = value;
+}
+
+// required .ohla.rti.proto.OrderType orderType = 5;
+inline bool FDD_ObjectClass_Attribute::has_ordertype() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void FDD_ObjectClass_Attribute::set_has_ordertype() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void FDD_ObjectClass_Attribute::clear_has_ordertype() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void FDD_ObjectClass_Attribute::clear_ordertype() {
+  ordertype_ = 1;
+  clear_has_ordertype();
+}
+inline ::ohla::rti::proto::OrderType FDD_ObjectClass_Attribute::ordertype() const {
+  return static_cast< ::ohla::rti::proto::OrderType >(ordertype_);
+}
+inline void FDD_ObjectClass_Attribute::set_ordertype(::ohla::rti::proto::OrderType value) {
+  assert(::ohla::rti::proto::OrderType_IsValid(value));
+  set_has_ordertype();
+  ordertype_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// FDD_ObjectClass
+
+// required uint32 objectClassHandle = 1;
+inline bool FDD_ObjectClass::has_objectclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FDD_ObjectClass::set_has_objectclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FDD_ObjectClass::clear_has_objectclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FDD_ObjectClass::clear_objectclasshandle() {
+  objectclasshandle_ = 0u;
+  clear_has_objectclasshandle();
+}
+inline ::google::protobuf::uint32 FDD_ObjectClass::objectclasshandle() const {
+  return objectclasshandle_;
+}
+inline void FDD_ObjectClass::set_objectclasshandle(::google::protobuf::uint32 value) {
+  set_has_objectclasshandle();
+  objectclasshandle_ = value;
+}
+
+// required string objectClassName = 2;
+inline bool FDD_ObjectClass::has_objectclassname() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FDD_ObjectClass::set_has_objectclassname() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FDD_ObjectClass::clear_has_objectclassname() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FDD_ObjectClass::clear_objectclassname() {
+  if (objectclassname_ != &::google::protobuf::internal::kEmptyString) {
+    objectclassname_->clear();
+  }
+  clear_has_objectclassname();
+}
+inline const ::std::string& FDD_ObjectClass::objectclassname() const {
+  return *objectclassname_;
+}
+inline void FDD_ObjectClass::set_objectclassname(const ::std::string& value) {
+  set_has_objectclassname();
+  if (objectclassname_ == &::google::protobuf::internal::kEmptyString) {
+    objectclassname_ = new ::std::string;
+  }
+  objectclassname_->assign(value);
+}
+inline void FDD_ObjectClass::set_objectclassname(const char* value) {
+  set_has_objectclassname();
+  if (objectclassname_ == &::google::protobuf::internal::kEmptyString) {
+    objectclassname_ = new ::std::string;
+  }
+  objectclassname_->assign(value);
+}
+inline void FDD_ObjectClass::set_objectclassname(const char* value, size_t size) {
+  set_has_objectclassname();
+  if (objectclassname_ == &::google::protobuf::internal::kEmptyString) {
+    objectclassname_ = new ::std::string;
+  }
+  objectclassname_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FDD_ObjectClass::mutable_objectclassname() {
+  set_has_objectclassname();
+  if (objectclassname_ == &::google::protobuf::internal::kEmptyString) {
+    objectclassname_ = new ::std::string;
+  }
+  return objectclassname_;
+}
+inline ::std::string* FDD_ObjectClass::release_objectclassname() {
+  clear_has_objectclassname();
+  if (objectclassname_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = objectclassname_;
+    objectclassname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FDD_ObjectClass::set_allocated_objectclassname(::std::string* objectclassname) {
+  if (objectclassname_ != &::google::protobuf::internal::kEmptyString) {
+    delete objectclassname_;
+  }
+  if (objectclassname) {
+    set_has_objectclassname();
+    objectclassname_ = objectclassname;
+  } else {
+    clear_has_objectclassname();
+    objectclassname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional uint32 superObjectClassHandle = 3;
+inline bool FDD_ObjectClass::has_superobjectclasshandle() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FDD_ObjectClass::set_has_superobjectclasshandle() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FDD_ObjectClass::clear_has_superobjectclasshandle() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FDD_ObjectClass::clear_superobjectclasshandle() {
+  superobjectclasshandle_ = 0u;
+  clear_has_superobjectclasshandle();
+}
+inline ::google::protobuf::uint32 FDD_ObjectClass::superobjectclasshandle() const {
+  return superobjectclasshandle_;
+}
+inline void FDD_ObjectClass::set_superobjectclasshandle(::google::protobuf::uint32 value) {
+  set_has_superobjectclasshandle();
+  superobjectclasshandle_ = value;
+}
+
+// repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;
+inline int FDD_ObjectClass::attributes_size() const {
+  return attributes_.size();
+}
+inline void FDD_ObjectClass::clear_attributes() {
+  attributes_.Clear();
+}
+inline const ::ohla::rti::proto::FDD_ObjectClass_Attribute& FDD_ObjectClass::attributes(int index) const {
+  return attributes_.Get(index);
+}
+inline ::ohla::rti::proto::FDD_ObjectClass_Attribute* FDD_ObjectClass::mutable_attributes(int index) {
+  return attributes_.Mutable(index);
+}
+inline ::ohla::rti::proto::FDD_ObjectClass_Attribute* FDD_ObjectClass::add_attributes() {
+  return attributes_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_ObjectClass_Attribute >&
+FDD_ObjectClass::attributes() const {
+  return attributes_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_ObjectClass_Attribute >*
+FDD_ObjectClass::mutable_attributes() {
+  return &attributes_;
+}
+
+// -------------------------------------------------------------------
+
+// FDD_InteractionClass_Parameter
+
+// required uint32 parameterHandle = 1;
+inline bool FDD_InteractionClass_Parameter::has_parameterhandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FDD_InteractionClass_Parameter::set_has_parameterhandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FDD_InteractionClass_Parameter::clear_has_parameterhandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FDD_InteractionClass_Parameter::clear_parameterhandle() {
+  parameterhandle_ = 0u;
+  clear_has_parameterhandle();
+}
+inline ::google::protobuf::uint32 FDD_InteractionClass_Parameter::parameterhandle() const {
+  return parameterhandle_;
+}
+inline void FDD_InteractionClass_Parameter::set_parameterhandle(::google::protobuf::uint32 value) {
+  set_has_parameterhandle();
+  parameterhandle_ = value;
+}
+
+// required string parameterName = 2;
+inline bool FDD_InteractionClass_Parameter::has_parametername() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FDD_InteractionClass_Parameter::set_has_parametername() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FDD_InteractionClass_Parameter::clear_has_parametername() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FDD_InteractionClass_Parameter::clear_parametername() {
+  if (parametername_ != &::google::protobuf::internal::kEmptyString) {
+    parametername_->clear();
+  }
+  clear_has_parametername();
+}
+inline const ::std::string& FDD_InteractionClass_Parameter::parametername() const {
+  return *parametername_;
+}
+inline void FDD_InteractionClass_Parameter::set_parametername(const ::std::string& value) {
+  set_has_parametername();
+  if (parametername_ == &::google::protobuf::internal::kEmptyString) {
+    parametername_ = new ::std::string;
+  }
+  parametername_->assign(value);
+}
+inline void FDD_InteractionClass_Parameter::set_parametername(const char* value) {
+  set_has_parametername();
+  if (parametername_ == &::google::protobuf::internal::kEmptyString) {
+    parametername_ = new ::std::string;
+  }
+  parametername_->assign(value);
+}
+inline void FDD_InteractionClass_Parameter::set_parametername(const char* value, size_t size) {
+  set_has_parametername();
+  if (parametername_ == &::google::protobuf::internal::kEmptyString) {
+    parametername_ = new ::std::string;
+  }
+  parametername_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FDD_InteractionClass_Parameter::mutable_parametername() {
+  set_has_parametername();
+  if (parametername_ == &::google::protobuf::internal::kEmptyString) {
+    parametername_ = new ::std::string;
+  }
+  return parametername_;
+}
+inline ::std::string* FDD_InteractionClass_Parameter::release_parametername() {
+  clear_has_parametername();
+  if (parametername_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = parametername_;
+    parametername_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FDD_InteractionClass_Parameter::set_allocated_parametername(::std::string* parametername) {
+  if (parametername_ != &::google::protobuf::internal::kEmptyString) {
+    delete parametername_;
+  }
+  if (parametername) {
+    set_has_parametername();
+    parametername_ = parametername;
+  } else {
+    clear_has_parametername();
+    parametername_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// FDD_InteractionClass
+
+// required uint32 interactionClassHandle = 1;
+inline bool FDD_InteractionClass::has_interactionclasshandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FDD_InteractionClass::set_has_interactionclasshandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FDD_InteractionClass::clear_has_interactionclasshandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FDD_InteractionClass::clear_interactionclasshandle() {
+  interactionclasshandle_ = 0u;
+  clear_has_interactionclasshandle();
+}
+inline ::google::protobuf::uint32 FDD_InteractionClass::interactionclasshandle() const {
+  return interactionclasshandle_;
+}
+inline void FDD_InteractionClass::set_interactionclasshandle(::google::protobuf::uint32 value) {
+  set_has_interactionclasshandle();
+  interactionclasshandle_ = value;
+}
+
+// required string interactionClassName = 2;
+inline bool FDD_InteractionClass::has_interactionclassname() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FDD_InteractionClass::set_has_interactionclassname() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FDD_InteractionClass::clear_has_interactionclassname() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FDD_InteractionClass::clear_interactionclassname() {
+  if (interactionclassname_ != &::google::protobuf::internal::kEmptyString) {
+    interactionclassname_->clear();
+  }
+  clear_has_interactionclassname();
+}
+inline const ::std::string& FDD_InteractionClass::interactionclassname() const {
+  return *interactionclassname_;
+}
+inline void FDD_InteractionClass::set_interactionclassname(const ::std::string& value) {
+  set_has_interactionclassname();
+  if (interactionclassname_ == &::google::protobuf::internal::kEmptyString) {
+    interactionclassname_ = new ::std::string;
+  }
+  interactionclassname_->assign(value);
+}
+inline void FDD_InteractionClass::set_interactionclassname(const char* value) {
+  set_has_interactionclassname();
+  if (interactionclassname_ == &::google::protobuf::internal::kEmptyString) {
+    interactionclassname_ = new ::std::string;
+  }
+  interactionclassname_->assign(value);
+}
+inline void FDD_InteractionClass::set_interactionclassname(const char* value, size_t size) {
+  set_has_interactionclassname();
+  if (interactionclassname_ == &::google::protobuf::internal::kEmptyString) {
+    interactionclassname_ = new ::std::string;
+  }
+  interactionclassname_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FDD_InteractionClass::mutable_interactionclassname() {
+  set_has_interactionclassname();
+  if (interactionclassname_ == &::google::protobuf::internal::kEmptyString) {
+    interactionclassname_ = new ::std::string;
+  }
+  return interactionclassname_;
+}
+inline ::std::string* FDD_InteractionClass::release_interactionclassname() {
+  clear_has_interactionclassname();
+  if (interactionclassname_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = interactionclassname_;
+    interactionclassname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FDD_InteractionClass::set_allocated_interactionclassname(::std::string* interactionclassname) {
+  if (interactionclassname_ != &::google::protobuf::internal::kEmptyString) {
+    delete interactionclassname_;
+  }
+  if (interactionclassname) {
+    set_has_interactionclassname();
+    interactionclassname_ = interactionclassname;
+  } else {
+    clear_has_interactionclassname();
+    interactionclassname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional uint32 superInteractionClassHandle = 3;
+inline bool FDD_InteractionClass::has_superinteractionclasshandle() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void FDD_InteractionClass::set_has_superinteractionclasshandle() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void FDD_InteractionClass::clear_has_superinteractionclasshandle() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void FDD_InteractionClass::clear_superinteractionclasshandle() {
+  superinteractionclasshandle_ = 0u;
+  clear_has_superinteractionclasshandle();
+}
+inline ::google::protobuf::uint32 FDD_InteractionClass::superinteractionclasshandle() const {
+  return superinteractionclasshandle_;
+}
+inline void FDD_InteractionClass::set_superinteractionclasshandle(::google::protobuf::uint32 value) {
+  set_has_superinteractionclasshandle();
+  superinteractionclasshandle_ = value;
+}
+
+// repeated uint32 dimensionHandles = 4;
+inline int FDD_InteractionClass::dimensionhandles_size() const {
+  return dimensionhandles_.size();
+}
+inline void FDD_InteractionClass::clear_dimensionhandles() {
+  dimensionhandles_.Clear();
+}
+inline ::google::protobuf::uint32 FDD_InteractionClass::dimensionhandles(int index) const {
+  return dimensionhandles_.Get(index);
+}
+inline void FDD_InteractionClass::set_dimensionhandles(int index, ::google::protobuf::uint32 value) {
+  dimensionhandles_.Set(index, value);
+}
+inline void FDD_InteractionClass::add_dimensionhandles(::google::protobuf::uint32 value) {
+  dimensionhandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FDD_InteractionClass::dimensionhandles() const {
+  return dimensionhandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FDD_InteractionClass::mutable_dimensionhandles() {
+  return &dimensionhandles_;
+}
+
+// required uint32 transportationTypeHandle = 5;
+inline bool FDD_InteractionClass::has_transportationtypehandle() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void FDD_InteractionClass::set_has_transportationtypehandle() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void FDD_InteractionClass::clear_has_transportationtypehandle() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void FDD_InteractionClass::clear_transportationtypehandle() {
+  transportationtypehandle_ = 0u;
+  clear_has_transportationtypehandle();
+}
+inline ::google::protobuf::uint32 FDD_InteractionClass::transportationtypehandle() const {
+  return transportationtypehandle_;
+}
+inline void FDD_InteractionClass::set_transportationtypehandle(::google::protobuf::uint32 value) {
+  set_has_transportationtypehandle();
+  transportationtypehandle_ = value;
+}
+
+// required .ohla.rti.proto.OrderType orderType = 6;
+inline bool FDD_InteractionClass::has_ordertype() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void FDD_InteractionClass::set_has_ordertype() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void FDD_InteractionClass::clear_has_ordertype() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void FDD_InteractionClass::clear_ordertype() {
+  ordertype_ = 1;
+  clear_has_ordertype();
+}
+inline ::ohla::rti::proto::OrderType FDD_InteractionClass::ordertype() const {
+  return static_cast< ::ohla::rti::proto::OrderType >(ordertype_);
+}
+inline void FDD_InteractionClass::set_ordertype(::ohla::rti::proto::OrderType value) {
+  assert(::ohla::rti::proto::OrderType_IsValid(value));
+  set_has_ordertype();
+  ordertype_ = value;
+}
+
+// repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;
+inline int FDD_InteractionClass::parameters_size() const {
+  return parameters_.size();
+}
+inline void FDD_InteractionClass::clear_parameters() {
+  parameters_.Clear();
+}
+inline const ::ohla::rti::proto::FDD_InteractionClass_Parameter& FDD_InteractionClass::parameters(int index) const {
+  return parameters_.Get(index);
+}
+inline ::ohla::rti::proto::FDD_InteractionClass_Parameter* FDD_InteractionClass::mutable_parameters(int index) {
+  return parameters_.Mutable(index);
+}
+inline ::ohla::rti::proto::FDD_InteractionClass_Parameter* FDD_InteractionClass::add_parameters() {
+  return parameters_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_InteractionClass_Parameter >&
+FDD_InteractionClass::parameters() const {
+  return parameters_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_InteractionClass_Parameter >*
+FDD_InteractionClass::mutable_parameters() {
+  return &parameters_;
+}
+
+// -------------------------------------------------------------------
+
+// FDD_FED_RoutingSpace
+
+// required uint32 routingSpaceHandle = 1;
+inline bool FDD_FED_RoutingSpace::has_routingspacehandle() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FDD_FED_RoutingSpace::set_has_routingspacehandle() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FDD_FED_RoutingSpace::clear_has_routingspacehandle() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FDD_FED_RoutingSpace::clear_routingspacehandle() {
+  routingspacehandle_ = 0u;
+  clear_has_routingspacehandle();
+}
+inline ::google::protobuf::uint32 FDD_FED_RoutingSpace::routingspacehandle() const {
+  return routingspacehandle_;
+}
+inline void FDD_FED_RoutingSpace::set_routingspacehandle(::google::protobuf::uint32 value) {
+  set_has_routingspacehandle();
+  routingspacehandle_ = value;
+}
+
+// required string routingSpaceName = 2;
+inline bool FDD_FED_RoutingSpace::has_routingspacename() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void FDD_FED_RoutingSpace::set_has_routingspacename() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void FDD_FED_RoutingSpace::clear_has_routingspacename() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void FDD_FED_RoutingSpace::clear_routingspacename() {
+  if (routingspacename_ != &::google::protobuf::internal::kEmptyString) {
+    routingspacename_->clear();
+  }
+  clear_has_routingspacename();
+}
+inline const ::std::string& FDD_FED_RoutingSpace::routingspacename() const {
+  return *routingspacename_;
+}
+inline void FDD_FED_RoutingSpace::set_routingspacename(const ::std::string& value) {
+  set_has_routingspacename();
+  if (routingspacename_ == &::google::protobuf::internal::kEmptyString) {
+    routingspacename_ = new ::std::string;
+  }
+  routingspacename_->assign(value);
+}
+inline void FDD_FED_RoutingSpace::set_routingspacename(const char* value) {
+  set_has_routingspacename();
+  if (routingspacename_ == &::google::protobuf::internal::kEmptyString) {
+    routingspacename_ = new ::std::string;
+  }
+  routingspacename_->assign(value);
+}
+inline void FDD_FED_RoutingSpace::set_routingspacename(const char* value, size_t size) {
+  set_has_routingspacename();
+  if (routingspacename_ == &::google::protobuf::internal::kEmptyString) {
+    routingspacename_ = new ::std::string;
+  }
+  routingspacename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FDD_FED_RoutingSpace::mutable_routingspacename() {
+  set_has_routingspacename();
+  if (routingspacename_ == &::google::protobuf::internal::kEmptyString) {
+    routingspacename_ = new ::std::string;
+  }
+  return routingspacename_;
+}
+inline ::std::string* FDD_FED_RoutingSpace::release_routingspacename() {
+  clear_has_routingspacename();
+  if (routingspacename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = routingspacename_;
+    routingspacename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FDD_FED_RoutingSpace::set_allocated_routingspacename(::std::string* routingspacename) {
+  if (routingspacename_ != &::google::protobuf::internal::kEmptyString) {
+    delete routingspacename_;
+  }
+  if (routingspacename) {
+    set_has_routingspacename();
+    routingspacename_ = routingspacename;
+  } else {
+    clear_has_routingspacename();
+    routingspacename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// repeated uint32 dimensionHandles = 3;
+inline int FDD_FED_RoutingSpace::dimensionhandles_size() const {
+  return dimensionhandles_.size();
+}
+inline void FDD_FED_RoutingSpace::clear_dimensionhandles() {
+  dimensionhandles_.Clear();
+}
+inline ::google::protobuf::uint32 FDD_FED_RoutingSpace::dimensionhandles(int index) const {
+  return dimensionhandles_.Get(index);
+}
+inline void FDD_FED_RoutingSpace::set_dimensionhandles(int index, ::google::protobuf::uint32 value) {
+  dimensionhandles_.Set(index, value);
+}
+inline void FDD_FED_RoutingSpace::add_dimensionhandles(::google::protobuf::uint32 value) {
+  dimensionhandles_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+FDD_FED_RoutingSpace::dimensionhandles() const {
+  return dimensionhandles_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+FDD_FED_RoutingSpace::mutable_dimensionhandles() {
+  return &dimensionhandles_;
+}
+
+// repeated string aliases = 4;
+inline int FDD_FED_RoutingSpace::aliases_size() const {
+  return aliases_.size();
+}
+inline void FDD_FED_RoutingSpace::clear_aliases() {
+  aliases_.Clear();
+}
+inline const ::std::string& FDD_FED_RoutingSpace::aliases(int index) const {
+  return aliases_.Get(index);
+}
+inline ::std::string* FDD_FED_RoutingSpace::mutable_aliases(int index) {
+  return aliases_.Mutable(index);
+}
+inline void FDD_FED_RoutingSpace::set_aliases(int index, const ::std::string& value) {
+  aliases_.Mutable(index)->assign(value);
+}
+inline void FDD_FED_RoutingSpace::set_aliases(int index, const char* value) {
+  aliases_.Mutable(index)->assign(value);
+}
+inline void FDD_FED_RoutingSpace::set_aliases(int index, const char* value, size_t size) {
+  aliases_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FDD_FED_RoutingSpace::add_aliases() {
+  return aliases_.Add();
+}
+inline void FDD_FED_RoutingSpace::add_aliases(const ::std::string& value) {
+  aliases_.Add()->assign(value);
+}
+inline void FDD_FED_RoutingSpace::add_aliases(const char* value) {
+  aliases_.Add()->assign(value);
+}
+inline void FDD_FED_RoutingSpace::add_aliases(const char* value, size_t size) {
+  aliases_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+FDD_FED_RoutingSpace::aliases() const {
+  return aliases_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+FDD_FED_RoutingSpace::mutable_aliases() {
+  return &aliases_;
+}
+
+// -------------------------------------------------------------------
+
+// FDD_FED
+
+// optional string fedName = 1;
+inline bool FDD_FED::has_fedname() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void FDD_FED::set_has_fedname() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void FDD_FED::clear_has_fedname() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void FDD_FED::clear_fedname() {
+  if (fedname_ != &::google::protobuf::internal::kEmptyString) {
+    fedname_->clear();
+  }
+  clear_has_fedname();
+}
+inline const ::std::string& FDD_FED::fedname() const {
+  return *fedname_;
+}
+inline void FDD_FED::set_fedname(const ::std::string& value) {
+  set_has_fedname();
+  if (fedname_ == &::google::protobuf::internal::kEmptyString) {
+    fedname_ = new ::std::string;
+  }
+  fedname_->assign(value);
+}
+inline void FDD_FED::set_fedname(const char* value) {
+  set_has_fedname();
+  if (fedname_ == &::google::protobuf::internal::kEmptyString) {
+    fedname_ = new ::std::string;
+  }
+  fedname_->assign(value);
+}
+inline void FDD_FED::set_fedname(const char* value, size_t size) {
+  set_has_fedname();
+  if (fedname_ == &::google::protobuf::internal::kEmptyString) {
+    fedname_ = new ::std::string;
+  }
+  fedname_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FDD_FED::mutable_fedname() {
+  set_has_fedname();
+  if (fedname_ == &::google::protobuf::internal::kEmptyString) {
+    fedname_ = new ::std::string;
+  }
+  return fedname_;
+}
+inline ::std::string* FDD_FED::release_fedname() {
+  clear_has_fedname();
+  if (fedname_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = fedname_;
+    fedname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void FDD_FED::set_allocated_fedname(::std::string* fedname) {
+  if (fedname_ != &::google::protobuf::internal::kEmptyString) {
+    delete fedname_;
+  }
+  if (fedname) {
+    set_has_fedname();
+    fedname_ = fedname;
+  } else {
+    clear_has_fedname();
+    fedname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;
+inline int FDD_FED::routingspace_size() const {
+  return routingspace_.size();
+}
+inline void FDD_FED::clear_routingspace() {
+  routingspace_.Clear();
+}
+inline const ::ohla::rti::proto::FDD_FED_RoutingSpace& FDD_FED::routingspace(int index) const {
+  return routingspace_.Get(index);
+}
+inline ::ohla::rti::proto::FDD_FED_RoutingSpace* FDD_FED::mutable_routingspace(int index) {
+  return routingspace_.Mutable(index);
+}
+inline ::ohla::rti::proto::FDD_FED_RoutingSpace* FDD_FED::add_routingspace() {
+  return routingspace_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_FED_RoutingSpace >&
+FDD_FED::routingspace() const {
+  return routingspace_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_FED_RoutingSpace >*
+FDD_FED::mutable_routingspace() {
+  return &routingspace_;
+}
+
+// -------------------------------------------------------------------
+
+// FDD
+
+// repeated string sources = 1;
+inline int FDD::sources_size() const {
+  return sources_.size();
+}
+inline void FDD::clear_sources() {
+  sources_.Clear();
+}
+inline const ::std::string& FDD::sources(int index) const {
+  return sources_.Get(index);
+}
+inline ::std::string* FDD::mutable_sources(int index) {
+  return sources_.Mutable(index);
+}
+inline void FDD::set_sources(int index, const ::std::string& value) {
+  sources_.Mutable(index)->assign(value);
+}
+inline void FDD::set_sources(int index, const char* value) {
+  sources_.Mutable(index)->assign(value);
+}
+inline void FDD::set_sources(int index, const char* value, size_t size) {
+  sources_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* FDD::add_sources() {
+  return sources_.Add();
+}
+inline void FDD::add_sources(const ::std::string& value) {
+  sources_.Add()->assign(value);
+}
+inline void FDD::add_sources(const char* value) {
+  sources_.Add()->assign(value);
+}
+inline void FDD::add_sources(const char* value, size_t size) {
+  sources_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+FDD::sources() const {
+  return sources_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+FDD::mutable_sources() {
+  return &sources_;
+}
+
+// repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;
+inline int FDD::objectclasses_size() const {
+  return objectclasses_.size();
+}
+inline void FDD::clear_objectclasses() {
+  objectclasses_.Clear();
+}
+inline const ::ohla::rti::proto::FDD_ObjectClass& FDD::objectclasses(int index) const {
+  return objectclasses_.Get(index);
+}
+inline ::ohla::rti::proto::FDD_ObjectClass* FDD::mutable_objectclasses(int index) {
+  return objectclasses_.Mutable(index);
+}
+inline ::ohla::rti::proto::FDD_ObjectClass* FDD::add_objectclasses() {
+  return objectclasses_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_ObjectClass >&
+FDD::objectclasses() const {
+  return objectclasses_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_ObjectClass >*
+FDD::mutable_objectclasses() {
+  return &objectclasses_;
+}
+
+// repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;
+inline int FDD::interactionclasses_size() const {
+  return interactionclasses_.size();
+}
+inline void FDD::clear_interactionclasses() {
+  interactionclasses_.Clear();
+}
+inline const ::ohla::rti::proto::FDD_InteractionClass& FDD::interactionclasses(int index) const {
+  return interactionclasses_.Get(index);
+}
+inline ::ohla::rti::proto::FDD_InteractionClass* FDD::mutable_interactionclasses(int index) {
+  return interactionclasses_.Mutable(index);
+}
+inline ::ohla::rti::proto::FDD_InteractionClass* FDD::add_interactionclasses() {
+  return interactionclasses_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_InteractionClass >&
+FDD::interactionclasses() const {
+  return interactionclasses_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_InteractionClass >*
+FDD::mutable_interactionclasses() {
+  return &interactionclasses_;
+}
+
+// repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;
+inline int FDD::dimensions_size() const {
+  return dimensions_.size();
+}
+inline void FDD::clear_dimensions() {
+  dimensions_.Clear();
+}
+inline const ::ohla::rti::proto::FDD_Dimension& FDD::dimensions(int index) const {
+  return dimensions_.Get(index);
+}
+inline ::ohla::rti::proto::FDD_Dimension* FDD::mutable_dimensions(int index) {
+  return dimensions_.Mutable(index);
+}
+inline ::ohla::rti::proto::FDD_Dimension* FDD::add_dimensions() {
+  return dimensions_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_Dimension >&
+FDD::dimensions() const {
+  return dimensions_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD_Dimension >*
+FDD::mutable_dimensions() {
+  return &dimensions_;
+}
+
+// required .ohla.rti.proto.FDD.FED fed = 5;
+inline bool FDD::has_fed() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void FDD::set_has_fed() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void FDD::clear_has_fed() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void FDD::clear_fed() {
+  if (fed_ != NULL) fed_->::ohla::rti::proto::FDD_FED::Clear();
+  clear_has_fed();
+}
+inline const ::ohla::rti::proto::FDD_FED& FDD::fed() const {
+  return fed_ != NULL ? *fed_ : *default_instance_->fed_;
+}
+inline ::ohla::rti::proto::FDD_FED* FDD::mutable_fed() {
+  set_has_fed();
+  if (fed_ == NULL) fed_ = new ::ohla::rti::proto::FDD_FED;
+  return fed_;
+}
+inline ::ohla::rti::proto::FDD_FED* FDD::release_fed() {
+  clear_has_fed();
+  ::ohla::rti::proto::FDD_FED* temp = fed_;
+  fed_ = NULL;
+  return temp;
+}
+inline void FDD::set_allocated_fed(::ohla::rti::proto::FDD_FED* fed) {
+  delete fed_;
+  fed_ = fed;
+  if (fed) {
+    set_has_fed();
+  } else {
+    clear_has_fed();
+  }
+}
+
+
+// @@protoc_insertion_point(namespace_scope)
+
+}  // namespace proto
+}  // namespace rti
+}  // namespace ohla
+
+#ifndef SWIG
+namespace google {
+namespace protobuf {
+
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::proto::AdvanceRequestType>() {
+  return ::ohla::rti::proto::AdvanceRequestType_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::proto::OrderType>() {
+  return ::ohla::rti::proto::OrderType_descriptor();
+}
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::ohla::rti::proto::ResignAction>() {
+  return ::ohla::rti::proto::ResignAction_descriptor();
+}
+
+}  // namespace google
+}  // namespace protobuf
+#endif  // SWIG
+
+// @@protoc_insertion_point(global_scope)
+
+#endif  // PROTOBUF_OHLAProtos_2eproto__INCLUDED
@@ -0,0 +1,1375 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: RTIMessageProtos.proto
+
+#define INTERNAL_SUPPRESS_PROTOBUF_FIELD_DEPRECATION
+#include "RTIMessageProtos.pb.h"
+
+#include <algorithm>
+
+#include <google/protobuf/stubs/common.h>
+#include <google/protobuf/stubs/once.h>
+#include <google/protobuf/io/coded_stream.h>
+#include <google/protobuf/wire_format_lite_inl.h>
+#include <google/protobuf/descriptor.h>
+#include <google/protobuf/generated_message_reflection.h>
+#include <google/protobuf/reflection_ops.h>
+#include <google/protobuf/wire_format.h>
+// @@protoc_insertion_point(includes)
+
+namespace ohla {
+namespace rti {
+namespace messages {
+namespace proto {
+
+namespace {
+
+const ::google::protobuf::Descriptor* CreateFederationExecution_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  CreateFederationExecution_reflection_ = NULL;
+const ::google::protobuf::Descriptor* DestroyFederationExecution_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  DestroyFederationExecution_reflection_ = NULL;
+const ::google::protobuf::Descriptor* JoinFederationExecution_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  JoinFederationExecution_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ListFederationExecutions_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ListFederationExecutions_reflection_ = NULL;
+
+}  // namespace
+
+
+void protobuf_AssignDesc_RTIMessageProtos_2eproto() {
+  protobuf_AddDesc_RTIMessageProtos_2eproto();
+  const ::google::protobuf::FileDescriptor* file =
+    ::google::protobuf::DescriptorPool::generated_pool()->FindFileByName(
+      "RTIMessageProtos.proto");
+  GOOGLE_CHECK(file != NULL);
+  CreateFederationExecution_descriptor_ = file->message_type(0);
+  static const int CreateFederationExecution_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateFederationExecution, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateFederationExecution, federationexecutionname_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateFederationExecution, fdd_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateFederationExecution, logicaltimeimplementationname_),
+  };
+  CreateFederationExecution_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      CreateFederationExecution_descriptor_,
+      CreateFederationExecution::default_instance_,
+      CreateFederationExecution_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateFederationExecution, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreateFederationExecution, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(CreateFederationExecution));
+  DestroyFederationExecution_descriptor_ = file->message_type(1);
+  static const int DestroyFederationExecution_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DestroyFederationExecution, requestid_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DestroyFederationExecution, federationexecutionname_),
+  };
+  DestroyFederationExecution_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      DestroyFederationExecution_descriptor_,
+      DestroyFederationExecution::default_instance_,
+      DestroyFederationExecution_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DestroyFederationExecution, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DestroyFederationExecution, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(DestroyFederationExecution));
+  JoinFederationExecution_descriptor_ = file->message_type(2);
+  static const int JoinFederationExecution_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecution, federatename_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecution, federatetype_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecution, federationexecutionname_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecution, additionalfdds_),
+  };
+  JoinFederationExecution_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      JoinFederationExecution_descriptor_,
+      JoinFederationExecution::default_instance_,
+      JoinFederationExecution_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecution, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(JoinFederationExecution, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(JoinFederationExecution));
+  ListFederationExecutions_descriptor_ = file->message_type(3);
+  static const int ListFederationExecutions_offsets_[1] = {
+  };
+  ListFederationExecutions_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ListFederationExecutions_descriptor_,
+      ListFederationExecutions::default_instance_,
+      ListFederationExecutions_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ListFederationExecutions, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ListFederationExecutions, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ListFederationExecutions));
+}
+
+namespace {
+
+GOOGLE_PROTOBUF_DECLARE_ONCE(protobuf_AssignDescriptors_once_);
+inline void protobuf_AssignDescriptorsOnce() {
+  ::google::protobuf::GoogleOnceInit(&protobuf_AssignDescriptors_once_,
+                 &protobuf_AssignDesc_RTIMessageProtos_2eproto);
+}
+
+void protobuf_RegisterTypes(const ::std::string&) {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    CreateFederationExecution_descriptor_, &CreateFederationExecution::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    DestroyFederationExecution_descriptor_, &DestroyFederationExecution::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    JoinFederationExecution_descriptor_, &JoinFederationExecution::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ListFederationExecutions_descriptor_, &ListFederationExecutions::default_instance());
+}
+
+}  // namespace
+
+void protobuf_ShutdownFile_RTIMessageProtos_2eproto() {
+  delete CreateFederationExecution::default_instance_;
+  delete CreateFederationExecution_reflection_;
+  delete DestroyFederationExecution::default_instance_;
+  delete DestroyFederationExecution_reflection_;
+  delete JoinFederationExecution::default_instance_;
+  delete JoinFederationExecution_reflection_;
+  delete ListFederationExecutions::default_instance_;
+  delete ListFederationExecutions_reflection_;
+}
+
+void protobuf_AddDesc_RTIMessageProtos_2eproto() {
+  static bool already_here = false;
+  if (already_here) return;
+  already_here = true;
+  GOOGLE_PROTOBUF_VERIFY_VERSION;
+
+  ::ohla::rti::proto::protobuf_AddDesc_OHLAProtos_2eproto();
+  ::ohla::rti::messages::proto::protobuf_AddDesc_MessageProtos_2eproto();
+  ::google::protobuf::DescriptorPool::InternalAddGeneratedFile(
+    "\n\026RTIMessageProtos.proto\022\027ohla.rti.messa"
+    "ges.proto\032\020OHLAProtos.proto\032\023MessageProt"
+    "os.proto\"\230\001\n\031CreateFederationExecution\022\021"
+    "\n\trequestId\030\001 \002(\004\022\037\n\027federationExecution"
+    "Name\030\002 \002(\t\022 \n\003fdd\030\003 \002(\0132\023.ohla.rti.proto"
+    ".FDD\022%\n\035logicalTimeImplementationName\030\004 "
+    "\002(\t\"P\n\032DestroyFederationExecution\022\021\n\treq"
+    "uestId\030\001 \002(\004\022\037\n\027federationExecutionName\030"
+    "\002 \002(\t\"\223\001\n\027JoinFederationExecution\022\024\n\014fed"
+    "erateName\030\001 \001(\t\022\024\n\014federateType\030\002 \002(\t\022\037\n"
+    "\027federationExecutionName\030\003 \002(\t\022+\n\016additi"
+    "onalFDDs\030\004 \003(\0132\023.ohla.rti.proto.FDD\"\032\n\030L"
+    "istFederationExecutionsB \n\036net.sf.ohla.r"
+    "ti.messages.proto", 537);
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
+    "RTIMessageProtos.proto", &protobuf_RegisterTypes);
+  CreateFederationExecution::default_instance_ = new CreateFederationExecution();
+  DestroyFederationExecution::default_instance_ = new DestroyFederationExecution();
+  JoinFederationExecution::default_instance_ = new JoinFederationExecution();
+  ListFederationExecutions::default_instance_ = new ListFederationExecutions();
+  CreateFederationExecution::default_instance_->InitAsDefaultInstance();
+  DestroyFederationExecution::default_instance_->InitAsDefaultInstance();
+  JoinFederationExecution::default_instance_->InitAsDefaultInstance();
+  ListFederationExecutions::default_instance_->InitAsDefaultInstance();
+  ::google::protobuf::internal::OnShutdown(&protobuf_ShutdownFile_RTIMessageProtos_2eproto);
+}
+
+// Force AddDescriptors() to be called at static initialization time.
+struct StaticDescriptorInitializer_RTIMessageProtos_2eproto {
+  StaticDescriptorInitializer_RTIMessageProtos_2eproto() {
+    protobuf_AddDesc_RTIMessageProtos_2eproto();
+  }
+} static_descriptor_initializer_RTIMessageProtos_2eproto_;
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int CreateFederationExecution::kRequestIdFieldNumber;
+const int CreateFederationExecution::kFederationExecutionNameFieldNumber;
+const int CreateFederationExecution::kFddFieldNumber;
+const int CreateFederationExecution::kLogicalTimeImplementationNameFieldNumber;
+#endif  // !_MSC_VER
+
+CreateFederationExecution::CreateFederationExecution()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void CreateFederationExecution::InitAsDefaultInstance() {
+  fdd_ = const_cast< ::ohla::rti::proto::FDD*>(&::ohla::rti::proto::FDD::default_instance());
+}
+
+CreateFederationExecution::CreateFederationExecution(const CreateFederationExecution& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void CreateFederationExecution::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  fdd_ = NULL;
+  logicaltimeimplementationname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+CreateFederationExecution::~CreateFederationExecution() {
+  SharedDtor();
+}
+
+void CreateFederationExecution::SharedDtor() {
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    delete federationexecutionname_;
+  }
+  if (logicaltimeimplementationname_ != &::google::protobuf::internal::kEmptyString) {
+    delete logicaltimeimplementationname_;
+  }
+  if (this != default_instance_) {
+    delete fdd_;
+  }
+}
+
+void CreateFederationExecution::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* CreateFederationExecution::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return CreateFederationExecution_descriptor_;
+}
+
+const CreateFederationExecution& CreateFederationExecution::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_RTIMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+CreateFederationExecution* CreateFederationExecution::default_instance_ = NULL;
+
+CreateFederationExecution* CreateFederationExecution::New() const {
+  return new CreateFederationExecution;
+}
+
+void CreateFederationExecution::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_federationexecutionname()) {
+      if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+        federationexecutionname_->clear();
+      }
+    }
+    if (has_fdd()) {
+      if (fdd_ != NULL) fdd_->::ohla::rti::proto::FDD::Clear();
+    }
+    if (has_logicaltimeimplementationname()) {
+      if (logicaltimeimplementationname_ != &::google::protobuf::internal::kEmptyString) {
+        logicaltimeimplementationname_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool CreateFederationExecution::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_federationExecutionName;
+        break;
+      }
+
+      // required string federationExecutionName = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_federationExecutionName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_federationexecutionname()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->federationexecutionname().data(), this->federationexecutionname().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_fdd;
+        break;
+      }
+
+      // required .ohla.rti.proto.FDD fdd = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_fdd:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_fdd()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_logicalTimeImplementationName;
+        break;
+      }
+
+      // required string logicalTimeImplementationName = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_logicalTimeImplementationName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_logicaltimeimplementationname()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->logicaltimeimplementationname().data(), this->logicaltimeimplementationname().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void CreateFederationExecution::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // required string federationExecutionName = 2;
+  if (has_federationexecutionname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federationexecutionname().data(), this->federationexecutionname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->federationexecutionname(), output);
+  }
+
+  // required .ohla.rti.proto.FDD fdd = 3;
+  if (has_fdd()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->fdd(), output);
+  }
+
+  // required string logicalTimeImplementationName = 4;
+  if (has_logicaltimeimplementationname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->logicaltimeimplementationname().data(), this->logicaltimeimplementationname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      4, this->logicaltimeimplementationname(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* CreateFederationExecution::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // required string federationExecutionName = 2;
+  if (has_federationexecutionname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federationexecutionname().data(), this->federationexecutionname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->federationexecutionname(), target);
+  }
+
+  // required .ohla.rti.proto.FDD fdd = 3;
+  if (has_fdd()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->fdd(), target);
+  }
+
+  // required string logicalTimeImplementationName = 4;
+  if (has_logicaltimeimplementationname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->logicaltimeimplementationname().data(), this->logicaltimeimplementationname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        4, this->logicaltimeimplementationname(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int CreateFederationExecution::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // required string federationExecutionName = 2;
+    if (has_federationexecutionname()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->federationexecutionname());
+    }
+
+    // required .ohla.rti.proto.FDD fdd = 3;
+    if (has_fdd()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->fdd());
+    }
+
+    // required string logicalTimeImplementationName = 4;
+    if (has_logicaltimeimplementationname()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->logicaltimeimplementationname());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void CreateFederationExecution::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const CreateFederationExecution* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const CreateFederationExecution*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void CreateFederationExecution::MergeFrom(const CreateFederationExecution& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_federationexecutionname()) {
+      set_federationexecutionname(from.federationexecutionname());
+    }
+    if (from.has_fdd()) {
+      mutable_fdd()->::ohla::rti::proto::FDD::MergeFrom(from.fdd());
+    }
+    if (from.has_logicaltimeimplementationname()) {
+      set_logicaltimeimplementationname(from.logicaltimeimplementationname());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void CreateFederationExecution::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void CreateFederationExecution::CopyFrom(const CreateFederationExecution& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool CreateFederationExecution::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000000f) != 0x0000000f) return false;
+
+  if (has_fdd()) {
+    if (!this->fdd().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void CreateFederationExecution::Swap(CreateFederationExecution* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(federationexecutionname_, other->federationexecutionname_);
+    std::swap(fdd_, other->fdd_);
+    std::swap(logicaltimeimplementationname_, other->logicaltimeimplementationname_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata CreateFederationExecution::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = CreateFederationExecution_descriptor_;
+  metadata.reflection = CreateFederationExecution_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int DestroyFederationExecution::kRequestIdFieldNumber;
+const int DestroyFederationExecution::kFederationExecutionNameFieldNumber;
+#endif  // !_MSC_VER
+
+DestroyFederationExecution::DestroyFederationExecution()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void DestroyFederationExecution::InitAsDefaultInstance() {
+}
+
+DestroyFederationExecution::DestroyFederationExecution(const DestroyFederationExecution& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void DestroyFederationExecution::SharedCtor() {
+  _cached_size_ = 0;
+  requestid_ = GOOGLE_ULONGLONG(0);
+  federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+DestroyFederationExecution::~DestroyFederationExecution() {
+  SharedDtor();
+}
+
+void DestroyFederationExecution::SharedDtor() {
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    delete federationexecutionname_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void DestroyFederationExecution::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* DestroyFederationExecution::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return DestroyFederationExecution_descriptor_;
+}
+
+const DestroyFederationExecution& DestroyFederationExecution::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_RTIMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+DestroyFederationExecution* DestroyFederationExecution::default_instance_ = NULL;
+
+DestroyFederationExecution* DestroyFederationExecution::New() const {
+  return new DestroyFederationExecution;
+}
+
+void DestroyFederationExecution::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    requestid_ = GOOGLE_ULONGLONG(0);
+    if (has_federationexecutionname()) {
+      if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+        federationexecutionname_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool DestroyFederationExecution::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint64 requestId = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &requestid_)));
+          set_has_requestid();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_federationExecutionName;
+        break;
+      }
+
+      // required string federationExecutionName = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_federationExecutionName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_federationexecutionname()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->federationexecutionname().data(), this->federationexecutionname().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void DestroyFederationExecution::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(1, this->requestid(), output);
+  }
+
+  // required string federationExecutionName = 2;
+  if (has_federationexecutionname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federationexecutionname().data(), this->federationexecutionname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->federationexecutionname(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* DestroyFederationExecution::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required uint64 requestId = 1;
+  if (has_requestid()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(1, this->requestid(), target);
+  }
+
+  // required string federationExecutionName = 2;
+  if (has_federationexecutionname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federationexecutionname().data(), this->federationexecutionname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->federationexecutionname(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int DestroyFederationExecution::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint64 requestId = 1;
+    if (has_requestid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->requestid());
+    }
+
+    // required string federationExecutionName = 2;
+    if (has_federationexecutionname()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->federationexecutionname());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void DestroyFederationExecution::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const DestroyFederationExecution* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const DestroyFederationExecution*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void DestroyFederationExecution::MergeFrom(const DestroyFederationExecution& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_requestid()) {
+      set_requestid(from.requestid());
+    }
+    if (from.has_federationexecutionname()) {
+      set_federationexecutionname(from.federationexecutionname());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void DestroyFederationExecution::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void DestroyFederationExecution::CopyFrom(const DestroyFederationExecution& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool DestroyFederationExecution::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  return true;
+}
+
+void DestroyFederationExecution::Swap(DestroyFederationExecution* other) {
+  if (other != this) {
+    std::swap(requestid_, other->requestid_);
+    std::swap(federationexecutionname_, other->federationexecutionname_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata DestroyFederationExecution::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = DestroyFederationExecution_descriptor_;
+  metadata.reflection = DestroyFederationExecution_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int JoinFederationExecution::kFederateNameFieldNumber;
+const int JoinFederationExecution::kFederateTypeFieldNumber;
+const int JoinFederationExecution::kFederationExecutionNameFieldNumber;
+const int JoinFederationExecution::kAdditionalFDDsFieldNumber;
+#endif  // !_MSC_VER
+
+JoinFederationExecution::JoinFederationExecution()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void JoinFederationExecution::InitAsDefaultInstance() {
+}
+
+JoinFederationExecution::JoinFederationExecution(const JoinFederationExecution& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void JoinFederationExecution::SharedCtor() {
+  _cached_size_ = 0;
+  federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  federatetype_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+JoinFederationExecution::~JoinFederationExecution() {
+  SharedDtor();
+}
+
+void JoinFederationExecution::SharedDtor() {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatename_;
+  }
+  if (federatetype_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatetype_;
+  }
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    delete federationexecutionname_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void JoinFederationExecution::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* JoinFederationExecution::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return JoinFederationExecution_descriptor_;
+}
+
+const JoinFederationExecution& JoinFederationExecution::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_RTIMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+JoinFederationExecution* JoinFederationExecution::default_instance_ = NULL;
+
+JoinFederationExecution* JoinFederationExecution::New() const {
+  return new JoinFederationExecution;
+}
+
+void JoinFederationExecution::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_federatename()) {
+      if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+        federatename_->clear();
+      }
+    }
+    if (has_federatetype()) {
+      if (federatetype_ != &::google::protobuf::internal::kEmptyString) {
+        federatetype_->clear();
+      }
+    }
+    if (has_federationexecutionname()) {
+      if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+        federationexecutionname_->clear();
+      }
+    }
+  }
+  additionalfdds_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool JoinFederationExecution::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // optional string federateName = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_federatename()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->federatename().data(), this->federatename().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_federateType;
+        break;
+      }
+
+      // required string federateType = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_federateType:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_federatetype()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->federatetype().data(), this->federatetype().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_federationExecutionName;
+        break;
+      }
+
+      // required string federationExecutionName = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_federationExecutionName:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_federationexecutionname()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->federationexecutionname().data(), this->federationexecutionname().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_additionalFDDs;
+        break;
+      }
+
+      // repeated .ohla.rti.proto.FDD additionalFDDs = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_additionalFDDs:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_additionalfdds()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_additionalFDDs;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void JoinFederationExecution::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // optional string federateName = 1;
+  if (has_federatename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatename().data(), this->federatename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->federatename(), output);
+  }
+
+  // required string federateType = 2;
+  if (has_federatetype()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatetype().data(), this->federatetype().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->federatetype(), output);
+  }
+
+  // required string federationExecutionName = 3;
+  if (has_federationexecutionname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federationexecutionname().data(), this->federationexecutionname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      3, this->federationexecutionname(), output);
+  }
+
+  // repeated .ohla.rti.proto.FDD additionalFDDs = 4;
+  for (int i = 0; i < this->additionalfdds_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      4, this->additionalfdds(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* JoinFederationExecution::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // optional string federateName = 1;
+  if (has_federatename()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatename().data(), this->federatename().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->federatename(), target);
+  }
+
+  // required string federateType = 2;
+  if (has_federatetype()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federatetype().data(), this->federatetype().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->federatetype(), target);
+  }
+
+  // required string federationExecutionName = 3;
+  if (has_federationexecutionname()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->federationexecutionname().data(), this->federationexecutionname().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        3, this->federationexecutionname(), target);
+  }
+
+  // repeated .ohla.rti.proto.FDD additionalFDDs = 4;
+  for (int i = 0; i < this->additionalfdds_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        4, this->additionalfdds(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int JoinFederationExecution::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // optional string federateName = 1;
+    if (has_federatename()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->federatename());
+    }
+
+    // required string federateType = 2;
+    if (has_federatetype()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->federatetype());
+    }
+
+    // required string federationExecutionName = 3;
+    if (has_federationexecutionname()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->federationexecutionname());
+    }
+
+  }
+  // repeated .ohla.rti.proto.FDD additionalFDDs = 4;
+  total_size += 1 * this->additionalfdds_size();
+  for (int i = 0; i < this->additionalfdds_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->additionalfdds(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void JoinFederationExecution::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const JoinFederationExecution* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const JoinFederationExecution*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void JoinFederationExecution::MergeFrom(const JoinFederationExecution& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  additionalfdds_.MergeFrom(from.additionalfdds_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_federatename()) {
+      set_federatename(from.federatename());
+    }
+    if (from.has_federatetype()) {
+      set_federatetype(from.federatetype());
+    }
+    if (from.has_federationexecutionname()) {
+      set_federationexecutionname(from.federationexecutionname());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void JoinFederationExecution::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void JoinFederationExecution::CopyFrom(const JoinFederationExecution& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool JoinFederationExecution::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000006) != 0x00000006) return false;
+
+  for (int i = 0; i < additionalfdds_size(); i++) {
+    if (!this->additionalfdds(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void JoinFederationExecution::Swap(JoinFederationExecution* other) {
+  if (other != this) {
+    std::swap(federatename_, other->federatename_);
+    std::swap(federatetype_, other->federatetype_);
+    std::swap(federationexecutionname_, other->federationexecutionname_);
+    additionalfdds_.Swap(&other->additionalfdds_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata JoinFederationExecution::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = JoinFederationExecution_descriptor_;
+  metadata.reflection = JoinFederationExecution_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+#endif  // !_MSC_VER
+
+ListFederationExecutions::ListFederationExecutions()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ListFederationExecutions::InitAsDefaultInstance() {
+}
+
+ListFederationExecutions::ListFederationExecutions(const ListFederationExecutions& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ListFederationExecutions::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ListFederationExecutions::~ListFederationExecutions() {
+  SharedDtor();
+}
+
+void ListFederationExecutions::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void ListFederationExecutions::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ListFederationExecutions::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ListFederationExecutions_descriptor_;
+}
+
+const ListFederationExecutions& ListFederationExecutions::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_RTIMessageProtos_2eproto();
+  return *default_instance_;
+}
+
+ListFederationExecutions* ListFederationExecutions::default_instance_ = NULL;
+
+ListFederationExecutions* ListFederationExecutions::New() const {
+  return new ListFederationExecutions;
+}
+
+void ListFederationExecutions::Clear() {
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ListFederationExecutions::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+        ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+      return true;
+    }
+    DO_(::google::protobuf::internal::WireFormat::SkipField(
+          input, tag, mutable_unknown_fields()));
+  }
+  return true;
+#undef DO_
+}
+
+void ListFederationExecutions::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ListFederationExecutions::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ListFederationExecutions::ByteSize() const {
+  int total_size = 0;
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ListFederationExecutions::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ListFederationExecutions* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ListFederationExecutions*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ListFederationExecutions::MergeFrom(const ListFederationExecutions& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ListFederationExecutions::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ListFederationExecutions::CopyFrom(const ListFederationExecutions& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ListFederationExecutions::IsInitialized() const {
+
+  return true;
+}
+
+void ListFederationExecutions::Swap(ListFederationExecutions* other) {
+  if (other != this) {
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ListFederationExecutions::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ListFederationExecutions_descriptor_;
+  metadata.reflection = ListFederationExecutions_reflection_;
+  return metadata;
+}
+
+
+// @@protoc_insertion_point(namespace_scope)
+
+}  // namespace proto
+}  // namespace messages
+}  // namespace rti
+}  // namespace ohla
+
+// @@protoc_insertion_point(global_scope)
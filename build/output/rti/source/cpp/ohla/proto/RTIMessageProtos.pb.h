@@ -0,0 +1,1034 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: RTIMessageProtos.proto
+
+#ifndef PROTOBUF_RTIMessageProtos_2eproto__INCLUDED
+#define PROTOBUF_RTIMessageProtos_2eproto__INCLUDED
+
+#include <string>
+
+#include <google/protobuf/stubs/common.h>
+
+#if GOOGLE_PROTOBUF_VERSION < 2005000
+#error This file was generated by a newer version of protoc which is
+#error incompatible with your Protocol Buffer headers.  Please update
+#error your headers.
+#endif
+#if 2005000 < GOOGLE_PROTOBUF_MIN_PROTOC_VERSION
+#error This file was generated by an older version of protoc which is
+#error incompatible with your Protocol Buffer headers.  Please
+#error regenerate this file with a newer version of protoc.
+#endif
+
+#include <google/protobuf/generated_message_util.h>
+#include <google/protobuf/message.h>
+#include <google/protobuf/repeated_field.h>
+#include <google/protobuf/extension_set.h>
+#include <google/protobuf/unknown_field_set.h>
+#include "OHLAProtos.pb.h"
+#include "MessageProtos.pb.h"
+// @@protoc_insertion_point(includes)
+
+namespace ohla {
+namespace rti {
+namespace messages {
+namespace proto {
+
+// Internal implementation detail -- do not call these.
+void  protobuf_AddDesc_RTIMessageProtos_2eproto();
+void protobuf_AssignDesc_RTIMessageProtos_2eproto();
+void protobuf_ShutdownFile_RTIMessageProtos_2eproto();
+
+class CreateFederationExecution;
+class DestroyFederationExecution;
+class JoinFederationExecution;
+class ListFederationExecutions;
+
+// ===================================================================
+
+class CreateFederationExecution : public ::google::protobuf::Message {
+ public:
+  CreateFederationExecution();
+  virtual ~CreateFederationExecution();
+
+  CreateFederationExecution(const CreateFederationExecution& from);
+
+  inline CreateFederationExecution& operator=(const CreateFederationExecution& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const CreateFederationExecution& default_instance();
+
+  void Swap(CreateFederationExecution* other);
+
+  // implements Message ----------------------------------------------
+
+  CreateFederationExecution* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const CreateFederationExecution& from);
+  void MergeFrom(const CreateFederationExecution& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // required string federationExecutionName = 2;
+  inline bool has_federationexecutionname() const;
+  inline void clear_federationexecutionname();
+  static const int kFederationExecutionNameFieldNumber = 2;
+  inline const ::std::string& federationexecutionname() const;
+  inline void set_federationexecutionname(const ::std::string& value);
+  inline void set_federationexecutionname(const char* value);
+  inline void set_federationexecutionname(const char* value, size_t size);
+  inline ::std::string* mutable_federationexecutionname();
+  inline ::std::string* release_federationexecutionname();
+  inline void set_allocated_federationexecutionname(::std::string* federationexecutionname);
+
+  // required .ohla.rti.proto.FDD fdd = 3;
+  inline bool has_fdd() const;
+  inline void clear_fdd();
+  static const int kFddFieldNumber = 3;
+  inline const ::ohla::rti::proto::FDD& fdd() const;
+  inline ::ohla::rti::proto::FDD* mutable_fdd();
+  inline ::ohla::rti::proto::FDD* release_fdd();
+  inline void set_allocated_fdd(::ohla::rti::proto::FDD* fdd);
+
+  // required string logicalTimeImplementationName = 4;
+  inline bool has_logicaltimeimplementationname() const;
+  inline void clear_logicaltimeimplementationname();
+  static const int kLogicalTimeImplementationNameFieldNumber = 4;
+  inline const ::std::string& logicaltimeimplementationname() const;
+  inline void set_logicaltimeimplementationname(const ::std::string& value);
+  inline void set_logicaltimeimplementationname(const char* value);
+  inline void set_logicaltimeimplementationname(const char* value, size_t size);
+  inline ::std::string* mutable_logicaltimeimplementationname();
+  inline ::std::string* release_logicaltimeimplementationname();
+  inline void set_allocated_logicaltimeimplementationname(::std::string* logicaltimeimplementationname);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.CreateFederationExecution)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_federationexecutionname();
+  inline void clear_has_federationexecutionname();
+  inline void set_has_fdd();
+  inline void clear_has_fdd();
+  inline void set_has_logicaltimeimplementationname();
+  inline void clear_has_logicaltimeimplementationname();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::std::string* federationexecutionname_;
+  ::ohla::rti::proto::FDD* fdd_;
+  ::std::string* logicaltimeimplementationname_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_RTIMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_RTIMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_RTIMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static CreateFederationExecution* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class DestroyFederationExecution : public ::google::protobuf::Message {
+ public:
+  DestroyFederationExecution();
+  virtual ~DestroyFederationExecution();
+
+  DestroyFederationExecution(const DestroyFederationExecution& from);
+
+  inline DestroyFederationExecution& operator=(const DestroyFederationExecution& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const DestroyFederationExecution& default_instance();
+
+  void Swap(DestroyFederationExecution* other);
+
+  // implements Message ----------------------------------------------
+
+  DestroyFederationExecution* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const DestroyFederationExecution& from);
+  void MergeFrom(const DestroyFederationExecution& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint64 requestId = 1;
+  inline bool has_requestid() const;
+  inline void clear_requestid();
+  static const int kRequestIdFieldNumber = 1;
+  inline ::google::protobuf::uint64 requestid() const;
+  inline void set_requestid(::google::protobuf::uint64 value);
+
+  // required string federationExecutionName = 2;
+  inline bool has_federationexecutionname() const;
+  inline void clear_federationexecutionname();
+  static const int kFederationExecutionNameFieldNumber = 2;
+  inline const ::std::string& federationexecutionname() const;
+  inline void set_federationexecutionname(const ::std::string& value);
+  inline void set_federationexecutionname(const char* value);
+  inline void set_federationexecutionname(const char* value, size_t size);
+  inline ::std::string* mutable_federationexecutionname();
+  inline ::std::string* release_federationexecutionname();
+  inline void set_allocated_federationexecutionname(::std::string* federationexecutionname);
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.DestroyFederationExecution)
+ private:
+  inline void set_has_requestid();
+  inline void clear_has_requestid();
+  inline void set_has_federationexecutionname();
+  inline void clear_has_federationexecutionname();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 requestid_;
+  ::std::string* federationexecutionname_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_RTIMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_RTIMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_RTIMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static DestroyFederationExecution* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class JoinFederationExecution : public ::google::protobuf::Message {
+ public:
+  JoinFederationExecution();
+  virtual ~JoinFederationExecution();
+
+  JoinFederationExecution(const JoinFederationExecution& from);
+
+  inline JoinFederationExecution& operator=(const JoinFederationExecution& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const JoinFederationExecution& default_instance();
+
+  void Swap(JoinFederationExecution* other);
+
+  // implements Message ----------------------------------------------
+
+  JoinFederationExecution* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const JoinFederationExecution& from);
+  void MergeFrom(const JoinFederationExecution& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // optional string federateName = 1;
+  inline bool has_federatename() const;
+  inline void clear_federatename();
+  static const int kFederateNameFieldNumber = 1;
+  inline const ::std::string& federatename() const;
+  inline void set_federatename(const ::std::string& value);
+  inline void set_federatename(const char* value);
+  inline void set_federatename(const char* value, size_t size);
+  inline ::std::string* mutable_federatename();
+  inline ::std::string* release_federatename();
+  inline void set_allocated_federatename(::std::string* federatename);
+
+  // required string federateType = 2;
+  inline bool has_federatetype() const;
+  inline void clear_federatetype();
+  static const int kFederateTypeFieldNumber = 2;
+  inline const ::std::string& federatetype() const;
+  inline void set_federatetype(const ::std::string& value);
+  inline void set_federatetype(const char* value);
+  inline void set_federatetype(const char* value, size_t size);
+  inline ::std::string* mutable_federatetype();
+  inline ::std::string* release_federatetype();
+  inline void set_allocated_federatetype(::std::string* federatetype);
+
+  // required string federationExecutionName = 3;
+  inline bool has_federationexecutionname() const;
+  inline void clear_federationexecutionname();
+  static const int kFederationExecutionNameFieldNumber = 3;
+  inline const ::std::string& federationexecutionname() const;
+  inline void set_federationexecutionname(const ::std::string& value);
+  inline void set_federationexecutionname(const char* value);
+  inline void set_federationexecutionname(const char* value, size_t size);
+  inline ::std::string* mutable_federationexecutionname();
+  inline ::std::string* release_federationexecutionname();
+  inline void set_allocated_federationexecutionname(::std::string* federationexecutionname);
+
+  // repeated .ohla.rti.proto.FDD additionalFDDs = 4;
+  inline int additionalfdds_size() const;
+  inline void clear_additionalfdds();
+  static const int kAdditionalFDDsFieldNumber = 4;
+  inline const ::ohla::rti::proto::FDD& additionalfdds(int index) const;
+  inline ::ohla::rti::proto::FDD* mutable_additionalfdds(int index);
+  inline ::ohla::rti::proto::FDD* add_additionalfdds();
+  inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD >&
+      additionalfdds() const;
+  inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD >*
+      mutable_additionalfdds();
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.JoinFederationExecution)
+ private:
+  inline void set_has_federatename();
+  inline void clear_has_federatename();
+  inline void set_has_federatetype();
+  inline void clear_has_federatetype();
+  inline void set_has_federationexecutionname();
+  inline void clear_has_federationexecutionname();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* federatename_;
+  ::std::string* federatetype_;
+  ::std::string* federationexecutionname_;
+  ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD > additionalfdds_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_RTIMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_RTIMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_RTIMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static JoinFederationExecution* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class ListFederationExecutions : public ::google::protobuf::Message {
+ public:
+  ListFederationExecutions();
+  virtual ~ListFederationExecutions();
+
+  ListFederationExecutions(const ListFederationExecutions& from);
+
+  inline ListFederationExecutions& operator=(const ListFederationExecutions& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ListFederationExecutions& default_instance();
+
+  void Swap(ListFederationExecutions* other);
+
+  // implements Message ----------------------------------------------
+
+  ListFederationExecutions* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ListFederationExecutions& from);
+  void MergeFrom(const ListFederationExecutions& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ListFederationExecutions)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[1];
+
+  friend void  protobuf_AddDesc_RTIMessageProtos_2eproto();
+  friend void protobuf_AssignDesc_RTIMessageProtos_2eproto();
+  friend void protobuf_ShutdownFile_RTIMessageProtos_2eproto();
+
+  void InitAsDefaultInstance();
+  static ListFederationExecutions* default_instance_;
+};
+// ===================================================================
+
+
+// ===================================================================
+
+// CreateFederationExecution
+
+// required uint64 requestId = 1;
+inline bool CreateFederationExecution::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void CreateFederationExecution::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void CreateFederationExecution::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void CreateFederationExecution::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 CreateFederationExecution::requestid() const {
+  return requestid_;
+}
+inline void CreateFederationExecution::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// required string federationExecutionName = 2;
+inline bool CreateFederationExecution::has_federationexecutionname() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void CreateFederationExecution::set_has_federationexecutionname() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void CreateFederationExecution::clear_has_federationexecutionname() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void CreateFederationExecution::clear_federationexecutionname() {
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_->clear();
+  }
+  clear_has_federationexecutionname();
+}
+inline const ::std::string& CreateFederationExecution::federationexecutionname() const {
+  return *federationexecutionname_;
+}
+inline void CreateFederationExecution::set_federationexecutionname(const ::std::string& value) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(value);
+}
+inline void CreateFederationExecution::set_federationexecutionname(const char* value) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(value);
+}
+inline void CreateFederationExecution::set_federationexecutionname(const char* value, size_t size) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* CreateFederationExecution::mutable_federationexecutionname() {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  return federationexecutionname_;
+}
+inline ::std::string* CreateFederationExecution::release_federationexecutionname() {
+  clear_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federationexecutionname_;
+    federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void CreateFederationExecution::set_allocated_federationexecutionname(::std::string* federationexecutionname) {
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    delete federationexecutionname_;
+  }
+  if (federationexecutionname) {
+    set_has_federationexecutionname();
+    federationexecutionname_ = federationexecutionname;
+  } else {
+    clear_has_federationexecutionname();
+    federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required .ohla.rti.proto.FDD fdd = 3;
+inline bool CreateFederationExecution::has_fdd() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void CreateFederationExecution::set_has_fdd() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void CreateFederationExecution::clear_has_fdd() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void CreateFederationExecution::clear_fdd() {
+  if (fdd_ != NULL) fdd_->::ohla::rti::proto::FDD::Clear();
+  clear_has_fdd();
+}
+inline const ::ohla::rti::proto::FDD& CreateFederationExecution::fdd() const {
+  return fdd_ != NULL ? *fdd_ : *default_instance_->fdd_;
+}
+inline ::ohla::rti::proto::FDD* CreateFederationExecution::mutable_fdd() {
+  set_has_fdd();
+  if (fdd_ == NULL) fdd_ = new ::ohla::rti::proto::FDD;
+  return fdd_;
+}
+inline ::ohla::rti::proto::FDD* CreateFederationExecution::release_fdd() {
+  clear_has_fdd();
+  ::ohla::rti::proto::FDD* temp = fdd_;
+  fdd_ = NULL;
+  return temp;
+}
+inline void CreateFederationExecution::set_allocated_fdd(::ohla::rti::proto::FDD* fdd) {
+  delete fdd_;
+  fdd_ = fdd;
+  if (fdd) {
+    set_has_fdd();
+  } else {
+    clear_has_fdd();
+  }
+}
+
+// required string logicalTimeImplementationName = 4;
+inline bool CreateFederationExecution::has_logicaltimeimplementationname() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void CreateFederationExecution::set_has_logicaltimeimplementationname() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void CreateFederationExecution::clear_has_logicaltimeimplementationname() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void CreateFederationExecution::clear_logicaltimeimplementationname() {
+  if (logicaltimeimplementationname_ != &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_->clear();
+  }
+  clear_has_logicaltimeimplementationname();
+}
+inline const ::std::string& CreateFederationExecution::logicaltimeimplementationname() const {
+  return *logicaltimeimplementationname_;
+}
+inline void CreateFederationExecution::set_logicaltimeimplementationname(const ::std::string& value) {
+  set_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_ = new ::std::string;
+  }
+  logicaltimeimplementationname_->assign(value);
+}
+inline void CreateFederationExecution::set_logicaltimeimplementationname(const char* value) {
+  set_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_ = new ::std::string;
+  }
+  logicaltimeimplementationname_->assign(value);
+}
+inline void CreateFederationExecution::set_logicaltimeimplementationname(const char* value, size_t size) {
+  set_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_ = new ::std::string;
+  }
+  logicaltimeimplementationname_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* CreateFederationExecution::mutable_logicaltimeimplementationname() {
+  set_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    logicaltimeimplementationname_ = new ::std::string;
+  }
+  return logicaltimeimplementationname_;
+}
+inline ::std::string* CreateFederationExecution::release_logicaltimeimplementationname() {
+  clear_has_logicaltimeimplementationname();
+  if (logicaltimeimplementationname_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = logicaltimeimplementationname_;
+    logicaltimeimplementationname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void CreateFederationExecution::set_allocated_logicaltimeimplementationname(::std::string* logicaltimeimplementationname) {
+  if (logicaltimeimplementationname_ != &::google::protobuf::internal::kEmptyString) {
+    delete logicaltimeimplementationname_;
+  }
+  if (logicaltimeimplementationname) {
+    set_has_logicaltimeimplementationname();
+    logicaltimeimplementationname_ = logicaltimeimplementationname;
+  } else {
+    clear_has_logicaltimeimplementationname();
+    logicaltimeimplementationname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// DestroyFederationExecution
+
+// required uint64 requestId = 1;
+inline bool DestroyFederationExecution::has_requestid() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void DestroyFederationExecution::set_has_requestid() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void DestroyFederationExecution::clear_has_requestid() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void DestroyFederationExecution::clear_requestid() {
+  requestid_ = GOOGLE_ULONGLONG(0);
+  clear_has_requestid();
+}
+inline ::google::protobuf::uint64 DestroyFederationExecution::requestid() const {
+  return requestid_;
+}
+inline void DestroyFederationExecution::set_requestid(::google::protobuf::uint64 value) {
+  set_has_requestid();
+  requestid_ = value;
+}
+
+// required string federationExecutionName = 2;
+inline bool DestroyFederationExecution::has_federationexecutionname() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void DestroyFederationExecution::set_has_federationexecutionname() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void DestroyFederationExecution::clear_has_federationexecutionname() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void DestroyFederationExecution::clear_federationexecutionname() {
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_->clear();
+  }
+  clear_has_federationexecutionname();
+}
+inline const ::std::string& DestroyFederationExecution::federationexecutionname() const {
+  return *federationexecutionname_;
+}
+inline void DestroyFederationExecution::set_federationexecutionname(const ::std::string& value) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(value);
+}
+inline void DestroyFederationExecution::set_federationexecutionname(const char* value) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(value);
+}
+inline void DestroyFederationExecution::set_federationexecutionname(const char* value, size_t size) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* DestroyFederationExecution::mutable_federationexecutionname() {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  return federationexecutionname_;
+}
+inline ::std::string* DestroyFederationExecution::release_federationexecutionname() {
+  clear_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federationexecutionname_;
+    federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void DestroyFederationExecution::set_allocated_federationexecutionname(::std::string* federationexecutionname) {
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    delete federationexecutionname_;
+  }
+  if (federationexecutionname) {
+    set_has_federationexecutionname();
+    federationexecutionname_ = federationexecutionname;
+  } else {
+    clear_has_federationexecutionname();
+    federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// JoinFederationExecution
+
+// optional string federateName = 1;
+inline bool JoinFederationExecution::has_federatename() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void JoinFederationExecution::set_has_federatename() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void JoinFederationExecution::clear_has_federatename() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void JoinFederationExecution::clear_federatename() {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    federatename_->clear();
+  }
+  clear_has_federatename();
+}
+inline const ::std::string& JoinFederationExecution::federatename() const {
+  return *federatename_;
+}
+inline void JoinFederationExecution::set_federatename(const ::std::string& value) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(value);
+}
+inline void JoinFederationExecution::set_federatename(const char* value) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(value);
+}
+inline void JoinFederationExecution::set_federatename(const char* value, size_t size) {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  federatename_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* JoinFederationExecution::mutable_federatename() {
+  set_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    federatename_ = new ::std::string;
+  }
+  return federatename_;
+}
+inline ::std::string* JoinFederationExecution::release_federatename() {
+  clear_has_federatename();
+  if (federatename_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federatename_;
+    federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void JoinFederationExecution::set_allocated_federatename(::std::string* federatename) {
+  if (federatename_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatename_;
+  }
+  if (federatename) {
+    set_has_federatename();
+    federatename_ = federatename;
+  } else {
+    clear_has_federatename();
+    federatename_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required string federateType = 2;
+inline bool JoinFederationExecution::has_federatetype() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void JoinFederationExecution::set_has_federatetype() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void JoinFederationExecution::clear_has_federatetype() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void JoinFederationExecution::clear_federatetype() {
+  if (federatetype_ != &::google::protobuf::internal::kEmptyString) {
+    federatetype_->clear();
+  }
+  clear_has_federatetype();
+}
+inline const ::std::string& JoinFederationExecution::federatetype() const {
+  return *federatetype_;
+}
+inline void JoinFederationExecution::set_federatetype(const ::std::string& value) {
+  set_has_federatetype();
+  if (federatetype_ == &::google::protobuf::internal::kEmptyString) {
+    federatetype_ = new ::std::string;
+  }
+  federatetype_->assign(value);
+}
+inline void JoinFederationExecution::set_federatetype(const char* value) {
+  set_has_federatetype();
+  if (federatetype_ == &::google::protobuf::internal::kEmptyString) {
+    federatetype_ = new ::std::string;
+  }
+  federatetype_->assign(value);
+}
+inline void JoinFederationExecution::set_federatetype(const char* value, size_t size) {
+  set_has_federatetype();
+  if (federatetype_ == &::google::protobuf::internal::kEmptyString) {
+    federatetype_ = new ::std::string;
+  }
+  federatetype_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* JoinFederationExecution::mutable_federatetype() {
+  set_has_federatetype();
+  if (federatetype_ == &::google::protobuf::internal::kEmptyString) {
+    federatetype_ = new ::std::string;
+  }
+  return federatetype_;
+}
+inline ::std::string* JoinFederationExecution::release_federatetype() {
+  clear_has_federatetype();
+  if (federatetype_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federatetype_;
+    federatetype_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void JoinFederationExecution::set_allocated_federatetype(::std::string* federatetype) {
+  if (federatetype_ != &::google::protobuf::internal::kEmptyString) {
+    delete federatetype_;
+  }
+  if (federatetype) {
+    set_has_federatetype();
+    federatetype_ = federatetype;
+  } else {
+    clear_has_federatetype();
+    federatetype_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required string federationExecutionName = 3;
+inline bool JoinFederationExecution::has_federationexecutionname() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void JoinFederationExecution::set_has_federationexecutionname() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void JoinFederationExecution::clear_has_federationexecutionname() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void JoinFederationExecution::clear_federationexecutionname() {
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_->clear();
+  }
+  clear_has_federationexecutionname();
+}
+inline const ::std::string& JoinFederationExecution::federationexecutionname() const {
+  return *federationexecutionname_;
+}
+inline void JoinFederationExecution::set_federationexecutionname(const ::std::string& value) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(value);
+}
+inline void JoinFederationExecution::set_federationexecutionname(const char* value) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(value);
+}
+inline void JoinFederationExecution::set_federationexecutionname(const char* value, size_t size) {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  federationexecutionname_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* JoinFederationExecution::mutable_federationexecutionname() {
+  set_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    federationexecutionname_ = new ::std::string;
+  }
+  return federationexecutionname_;
+}
+inline ::std::string* JoinFederationExecution::release_federationexecutionname() {
+  clear_has_federationexecutionname();
+  if (federationexecutionname_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = federationexecutionname_;
+    federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void JoinFederationExecution::set_allocated_federationexecutionname(::std::string* federationexecutionname) {
+  if (federationexecutionname_ != &::google::protobuf::internal::kEmptyString) {
+    delete federationexecutionname_;
+  }
+  if (federationexecutionname) {
+    set_has_federationexecutionname();
+    federationexecutionname_ = federationexecutionname;
+  } else {
+    clear_has_federationexecutionname();
+    federationexecutionname_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// repeated .ohla.rti.proto.FDD additionalFDDs = 4;
+inline int JoinFederationExecution::additionalfdds_size() const {
+  return additionalfdds_.size();
+}
+inline void JoinFederationExecution::clear_additionalfdds() {
+  additionalfdds_.Clear();
+}
+inline const ::ohla::rti::proto::FDD& JoinFederationExecution::additionalfdds(int index) const {
+  return additionalfdds_.Get(index);
+}
+inline ::ohla::rti::proto::FDD* JoinFederationExecution::mutable_additionalfdds(int index) {
+  return additionalfdds_.Mutable(index);
+}
+inline ::ohla::rti::proto::FDD* JoinFederationExecution::add_additionalfdds() {
+  return additionalfdds_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD >&
+JoinFederationExecution::additionalfdds() const {
+  return additionalfdds_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::ohla::rti::proto::FDD >*
+JoinFederationExecution::mutable_additionalfdds() {
+  return &additionalfdds_;
+}
+
+// -------------------------------------------------------------------
+
+// ListFederationExecutions
+
+
+// @@protoc_insertion_point(namespace_scope)
+
+}  // namespace proto
+}  // namespace messages
+}  // namespace rti
+}  // namespace ohla
+
+#ifndef SWIG
+namespace google {
+namespace protobuf {
+
+
+}  // namespace google
+}  // namespace protobuf
+#endif  // SWIG
+
+// @@protoc_insertion_point(global_scope)
+
+#endif  // PROTOBUF_RTIMessageProtos_2eproto__INCLUDED
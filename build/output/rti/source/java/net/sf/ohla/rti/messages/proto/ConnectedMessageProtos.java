@@ -0,0 +1,3849 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ConnectedMessageProtos.proto
+
+package net.sf.ohla.rti.messages.proto;
+
+public final class ConnectedMessageProtos {
+  private ConnectedMessageProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+  }
+  public interface CreateFederationExecutionResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint64 requestId = 1;
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    boolean hasRequestId();
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    long getRequestId();
+
+    // optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;
+    /**
+     * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+     */
+    boolean hasFailure();
+    /**
+     * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+     */
+    net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure getFailure();
+    /**
+     * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+     */
+    net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.FailureOrBuilder getFailureOrBuilder();
+  }
+  /**
+   * Protobuf type {@code ohla.rti.messages.proto.CreateFederationExecutionResponse}
+   */
+  public static final class CreateFederationExecutionResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements CreateFederationExecutionResponseOrBuilder {
+    // Use CreateFederationExecutionResponse.newBuilder() to construct.
+    private CreateFederationExecutionResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private CreateFederationExecutionResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final CreateFederationExecutionResponse defaultInstance;
+    public static CreateFederationExecutionResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public CreateFederationExecutionResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CreateFederationExecutionResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              requestId_ = input.readUInt64();
+              break;
+            }
+            case 18: {
+              net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = failure_.toBuilder();
+              }
+              failure_ = input.readMessage(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(failure_);
+                failure_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.class, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<CreateFederationExecutionResponse> PARSER =
+        new com.google.protobuf.AbstractParser<CreateFederationExecutionResponse>() {
+      public CreateFederationExecutionResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CreateFederationExecutionResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateFederationExecutionResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public interface FailureOrBuilder
+        extends com.google.protobuf.MessageOrBuilder {
+
+      // required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;
+      /**
+       * <code>required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;</code>
+       */
+      boolean hasCause();
+      /**
+       * <code>required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;</code>
+       */
+      net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Cause getCause();
+    }
+    /**
+     * Protobuf type {@code ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure}
+     */
+    public static final class Failure extends
+        com.google.protobuf.GeneratedMessage
+        implements FailureOrBuilder {
+      // Use Failure.newBuilder() to construct.
+      private Failure(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private Failure(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final Failure defaultInstance;
+      public static Failure getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public Failure getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Failure(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 8: {
+                int rawValue = input.readEnum();
+                net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Cause value = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Cause.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(1, rawValue);
+                } else {
+                  bitField0_ |= 0x00000001;
+                  cause_ = value;
+                }
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_Failure_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_Failure_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.class, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<Failure> PARSER =
+          new com.google.protobuf.AbstractParser<Failure>() {
+        public Failure parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Failure(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Failure> getParserForType() {
+        return PARSER;
+      }
+
+      /**
+       * Protobuf enum {@code ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause}
+       */
+      public enum Cause
+          implements com.google.protobuf.ProtocolMessageEnum {
+        /**
+         * <code>FEDERATION_EXECUTION_ALREADY_EXISTS = 1;</code>
+         */
+        FEDERATION_EXECUTION_ALREADY_EXISTS(0, 1),
+        /**
+         * <code>COULD_NOT_CREATE_LOGICAL_TIME_FACTORY = 2;</code>
+         */
+        COULD_NOT_CREATE_LOGICAL_TIME_FACTORY(1, 2),
+        ;
+
+        /**
+         * <code>FEDERATION_EXECUTION_ALREADY_EXISTS = 1;</code>
+         */
+        public static final int FEDERATION_EXECUTION_ALREADY_EXISTS_VALUE = 1;
+        /**
+         * <code>COULD_NOT_CREATE_LOGICAL_TIME_FACTORY = 2;</code>
+         */
+        public static final int COULD_NOT_CREATE_LOGICAL_TIME_FACTORY_VALUE = 2;
+
+
+        public final int getNumber() { return value; }
+
+        public static Cause valueOf(int value) {
+          switch (value) {
+            case 1: return FEDERATION_EXECUTION_ALREADY_EXISTS;
+            case 2: return COULD_NOT_CREATE_LOGICAL_TIME_FACTORY;
+            default: return null;
+          }
+        }
+
+        public static com.google.protobuf.Internal.EnumLiteMap<Cause>
+            internalGetValueMap() {
+          return internalValueMap;
+        }
+        private static com.google.protobuf.Internal.EnumLiteMap<Cause>
+            internalValueMap =
+              new com.google.protobuf.Internal.EnumLiteMap<Cause>() {
+                public Cause findValueByNumber(int number) {
+                  return Cause.valueOf(number);
+                }
+              };
+
+        public final com.google.protobuf.Descriptors.EnumValueDescriptor
+            getValueDescriptor() {
+          return getDescriptor().getValues().get(index);
+        }
+        public final com.google.protobuf.Descriptors.EnumDescriptor
+            getDescriptorForType() {
+          return getDescriptor();
+        }
+        public static final com.google.protobuf.Descriptors.EnumDescriptor
+            getDescriptor() {
+          return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.getDescriptor().getEnumTypes().get(0);
+        }
+
+        private static final Cause[] VALUES = values();
+
+        public static Cause valueOf(
+            com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+          if (desc.getType() != getDescriptor()) {
+            throw new java.lang.IllegalArgumentException(
+              "EnumValueDescriptor is not for this type.");
+          }
+          return VALUES[desc.getIndex()];
+        }
+
+        private final int index;
+        private final int value;
+
+        private Cause(int index, int value) {
+          this.index = index;
+          this.value = value;
+        }
+
+        // @@protoc_insertion_point(enum_scope:ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause)
+      }
+
+      private int bitField0_;
+      // required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;
+      public static final int CAUSE_FIELD_NUMBER = 1;
+      private net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Cause cause_;
+      /**
+       * <code>required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;</code>
+       */
+      public boolean hasCause() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;</code>
+       */
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Cause getCause() {
+        return cause_;
+      }
+
+      private void initFields() {
+        cause_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Cause.FEDERATION_EXECUTION_ALREADY_EXISTS;
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized != -1) return isInitialized == 1;
+
+        if (!hasCause()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeEnum(1, cause_.getNumber());
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeEnumSize(1, cause_.getNumber());
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder>
+         implements net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.FailureOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_Failure_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_Failure_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.class, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Builder.class);
+        }
+
+        // Construct using net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          cause_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Cause.FEDERATION_EXECUTION_ALREADY_EXISTS;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_Failure_descriptor;
+        }
+
+        public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure getDefaultInstanceForType() {
+          return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.getDefaultInstance();
+        }
+
+        public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure build() {
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure buildPartial() {
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure result = new net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.cause_ = cause_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure) {
+            return mergeFrom((net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure other) {
+          if (other == net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.getDefaultInstance()) return this;
+          if (other.hasCause()) {
+            setCause(other.getCause());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          if (!hasCause()) {
+            
+            return false;
+          }
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        // required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;
+        private net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Cause cause_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Cause.FEDERATION_EXECUTION_ALREADY_EXISTS;
+        /**
+         * <code>required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;</code>
+         */
+        public boolean hasCause() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;</code>
+         */
+        public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Cause getCause() {
+          return cause_;
+        }
+        /**
+         * <code>required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;</code>
+         */
+        public Builder setCause(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Cause value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bitField0_ |= 0x00000001;
+          cause_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure.Cause cause = 1;</code>
+         */
+        public Builder clearCause() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          cause_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Cause.FEDERATION_EXECUTION_ALREADY_EXISTS;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure)
+      }
+
+      static {
+        defaultInstance = new Failure(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure)
+    }
+
+    private int bitField0_;
+    // required uint64 requestId = 1;
+    public static final int REQUESTID_FIELD_NUMBER = 1;
+    private long requestId_;
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    public boolean hasRequestId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
+    // optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;
+    public static final int FAILURE_FIELD_NUMBER = 2;
+    private net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure failure_;
+    /**
+     * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+     */
+    public boolean hasFailure() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+     */
+    public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure getFailure() {
+      return failure_;
+    }
+    /**
+     * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+     */
+    public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.FailureOrBuilder getFailureOrBuilder() {
+      return failure_;
+    }
+
+    private void initFields() {
+      requestId_ = 0L;
+      failure_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasRequestId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasFailure()) {
+        if (!getFailure().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, requestId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, failure_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, requestId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, failure_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.messages.proto.CreateFederationExecutionResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.class, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getFailureFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        requestId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (failureBuilder_ == null) {
+          failure_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.getDefaultInstance();
+        } else {
+          failureBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_descriptor;
+      }
+
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse getDefaultInstanceForType() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse build() {
+        net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse buildPartial() {
+        net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse result = new net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.requestId_ = requestId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (failureBuilder_ == null) {
+          result.failure_ = failure_;
+        } else {
+          result.failure_ = failureBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse) {
+          return mergeFrom((net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse other) {
+        if (other == net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.getDefaultInstance()) return this;
+        if (other.hasRequestId()) {
+          setRequestId(other.getRequestId());
+        }
+        if (other.hasFailure()) {
+          mergeFailure(other.getFailure());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasRequestId()) {
+          
+          return false;
+        }
+        if (hasFailure()) {
+          if (!getFailure().isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint64 requestId = 1;
+      private long requestId_ ;
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public boolean hasRequestId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public Builder setRequestId(long value) {
+        bitField0_ |= 0x00000001;
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public Builder clearRequestId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;
+      private net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure failure_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Builder, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.FailureOrBuilder> failureBuilder_;
+      /**
+       * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public boolean hasFailure() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure getFailure() {
+        if (failureBuilder_ == null) {
+          return failure_;
+        } else {
+          return failureBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public Builder setFailure(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure value) {
+        if (failureBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          failure_ = value;
+          onChanged();
+        } else {
+          failureBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public Builder setFailure(
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Builder builderForValue) {
+        if (failureBuilder_ == null) {
+          failure_ = builderForValue.build();
+          onChanged();
+        } else {
+          failureBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public Builder mergeFailure(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure value) {
+        if (failureBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              failure_ != net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.getDefaultInstance()) {
+            failure_ =
+              net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.newBuilder(failure_).mergeFrom(value).buildPartial();
+          } else {
+            failure_ = value;
+          }
+          onChanged();
+        } else {
+          failureBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public Builder clearFailure() {
+        if (failureBuilder_ == null) {
+          failure_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.getDefaultInstance();
+          onChanged();
+        } else {
+          failureBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Builder getFailureBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getFailureFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.FailureOrBuilder getFailureOrBuilder() {
+        if (failureBuilder_ != null) {
+          return failureBuilder_.getMessageOrBuilder();
+        } else {
+          return failure_;
+        }
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.CreateFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Builder, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.FailureOrBuilder> 
+          getFailureFieldBuilder() {
+        if (failureBuilder_ == null) {
+          failureBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.Failure.Builder, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.CreateFederationExecutionResponse.FailureOrBuilder>(
+                  failure_,
+                  getParentForChildren(),
+                  isClean());
+          failure_ = null;
+        }
+        return failureBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.messages.proto.CreateFederationExecutionResponse)
+    }
+
+    static {
+      defaultInstance = new CreateFederationExecutionResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.CreateFederationExecutionResponse)
+  }
+
+  public interface DestroyFederationExecutionResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint64 requestId = 1;
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    boolean hasRequestId();
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    long getRequestId();
+
+    // optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;
+    /**
+     * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+     */
+    boolean hasFailure();
+    /**
+     * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+     */
+    net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure getFailure();
+    /**
+     * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+     */
+    net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.FailureOrBuilder getFailureOrBuilder();
+  }
+  /**
+   * Protobuf type {@code ohla.rti.messages.proto.DestroyFederationExecutionResponse}
+   */
+  public static final class DestroyFederationExecutionResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements DestroyFederationExecutionResponseOrBuilder {
+    // Use DestroyFederationExecutionResponse.newBuilder() to construct.
+    private DestroyFederationExecutionResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private DestroyFederationExecutionResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final DestroyFederationExecutionResponse defaultInstance;
+    public static DestroyFederationExecutionResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public DestroyFederationExecutionResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DestroyFederationExecutionResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              requestId_ = input.readUInt64();
+              break;
+            }
+            case 18: {
+              net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = failure_.toBuilder();
+              }
+              failure_ = input.readMessage(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(failure_);
+                failure_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.class, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<DestroyFederationExecutionResponse> PARSER =
+        new com.google.protobuf.AbstractParser<DestroyFederationExecutionResponse>() {
+      public DestroyFederationExecutionResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DestroyFederationExecutionResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DestroyFederationExecutionResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public interface FailureOrBuilder
+        extends com.google.protobuf.MessageOrBuilder {
+
+      // required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;
+      /**
+       * <code>required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;</code>
+       */
+      boolean hasCause();
+      /**
+       * <code>required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;</code>
+       */
+      net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Cause getCause();
+
+      // repeated string currentlyJoinedFederates = 2;
+      /**
+       * <code>repeated string currentlyJoinedFederates = 2;</code>
+       */
+      java.util.List<java.lang.String>
+      getCurrentlyJoinedFederatesList();
+      /**
+       * <code>repeated string currentlyJoinedFederates = 2;</code>
+       */
+      int getCurrentlyJoinedFederatesCount();
+      /**
+       * <code>repeated string currentlyJoinedFederates = 2;</code>
+       */
+      java.lang.String getCurrentlyJoinedFederates(int index);
+      /**
+       * <code>repeated string currentlyJoinedFederates = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getCurrentlyJoinedFederatesBytes(int index);
+    }
+    /**
+     * Protobuf type {@code ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure}
+     */
+    public static final class Failure extends
+        com.google.protobuf.GeneratedMessage
+        implements FailureOrBuilder {
+      // Use Failure.newBuilder() to construct.
+      private Failure(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private Failure(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final Failure defaultInstance;
+      public static Failure getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public Failure getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Failure(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 8: {
+                int rawValue = input.readEnum();
+                net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Cause value = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Cause.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(1, rawValue);
+                } else {
+                  bitField0_ |= 0x00000001;
+                  cause_ = value;
+                }
+                break;
+              }
+              case 18: {
+                if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                  currentlyJoinedFederates_ = new com.google.protobuf.LazyStringArrayList();
+                  mutable_bitField0_ |= 0x00000002;
+                }
+                currentlyJoinedFederates_.add(input.readBytes());
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+            currentlyJoinedFederates_ = new com.google.protobuf.UnmodifiableLazyStringList(currentlyJoinedFederates_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_Failure_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_Failure_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.class, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<Failure> PARSER =
+          new com.google.protobuf.AbstractParser<Failure>() {
+        public Failure parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Failure(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Failure> getParserForType() {
+        return PARSER;
+      }
+
+      /**
+       * Protobuf enum {@code ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause}
+       */
+      public enum Cause
+          implements com.google.protobuf.ProtocolMessageEnum {
+        /**
+         * <code>FEDERATES_CURRENTLY_JOINED = 1;</code>
+         */
+        FEDERATES_CURRENTLY_JOINED(0, 1),
+        /**
+         * <code>FEDERATION_EXECUTION_DOES_NOT_EXIST = 2;</code>
+         */
+        FEDERATION_EXECUTION_DOES_NOT_EXIST(1, 2),
+        ;
+
+        /**
+         * <code>FEDERATES_CURRENTLY_JOINED = 1;</code>
+         */
+        public static final int FEDERATES_CURRENTLY_JOINED_VALUE = 1;
+        /**
+         * <code>FEDERATION_EXECUTION_DOES_NOT_EXIST = 2;</code>
+         */
+        public static final int FEDERATION_EXECUTION_DOES_NOT_EXIST_VALUE = 2;
+
+
+        public final int getNumber() { return value; }
+
+        public static Cause valueOf(int value) {
+          switch (value) {
+            case 1: return FEDERATES_CURRENTLY_JOINED;
+            case 2: return FEDERATION_EXECUTION_DOES_NOT_EXIST;
+            default: return null;
+          }
+        }
+
+        public static com.google.protobuf.Internal.EnumLiteMap<Cause>
+            internalGetValueMap() {
+          return internalValueMap;
+        }
+        private static com.google.protobuf.Internal.EnumLiteMap<Cause>
+            internalValueMap =
+              new com.google.protobuf.Internal.EnumLiteMap<Cause>() {
+                public Cause findValueByNumber(int number) {
+                  return Cause.valueOf(number);
+                }
+              };
+
+        public final com.google.protobuf.Descriptors.EnumValueDescriptor
+            getValueDescriptor() {
+          return getDescriptor().getValues().get(index);
+        }
+        public final com.google.protobuf.Descriptors.EnumDescriptor
+            getDescriptorForType() {
+          return getDescriptor();
+        }
+        public static final com.google.protobuf.Descriptors.EnumDescriptor
+            getDescriptor() {
+          return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.getDescriptor().getEnumTypes().get(0);
+        }
+
+        private static final Cause[] VALUES = values();
+
+        public static Cause valueOf(
+            com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+          if (desc.getType() != getDescriptor()) {
+            throw new java.lang.IllegalArgumentException(
+              "EnumValueDescriptor is not for this type.");
+          }
+          return VALUES[desc.getIndex()];
+        }
+
+        private final int index;
+        private final int value;
+
+        private Cause(int index, int value) {
+          this.index = index;
+          this.value = value;
+        }
+
+        // @@protoc_insertion_point(enum_scope:ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause)
+      }
+
+      private int bitField0_;
+      // required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;
+      public static final int CAUSE_FIELD_NUMBER = 1;
+      private net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Cause cause_;
+      /**
+       * <code>required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;</code>
+       */
+      public boolean hasCause() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;</code>
+       */
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Cause getCause() {
+        return cause_;
+      }
+
+      // repeated string currentlyJoinedFederates = 2;
+      public static final int CURRENTLYJOINEDFEDERATES_FIELD_NUMBER = 2;
+      private com.google.protobuf.LazyStringList currentlyJoinedFederates_;
+      /**
+       * <code>repeated string currentlyJoinedFederates = 2;</code>
+       */
+      public java.util.List<java.lang.String>
+          getCurrentlyJoinedFederatesList() {
+        return currentlyJoinedFederates_;
+      }
+      /**
+       * <code>repeated string currentlyJoinedFederates = 2;</code>
+       */
+      public int getCurrentlyJoinedFederatesCount() {
+        return currentlyJoinedFederates_.size();
+      }
+      /**
+       * <code>repeated string currentlyJoinedFederates = 2;</code>
+       */
+      public java.lang.String getCurrentlyJoinedFederates(int index) {
+        return currentlyJoinedFederates_.get(index);
+      }
+      /**
+       * <code>repeated string currentlyJoinedFederates = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCurrentlyJoinedFederatesBytes(int index) {
+        return currentlyJoinedFederates_.getByteString(index);
+      }
+
+      private void initFields() {
+        cause_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Cause.FEDERATES_CURRENTLY_JOINED;
+        currentlyJoinedFederates_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized != -1) return isInitialized == 1;
+
+        if (!hasCause()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeEnum(1, cause_.getNumber());
+        }
+        for (int i = 0; i < currentlyJoinedFederates_.size(); i++) {
+          output.writeBytes(2, currentlyJoinedFederates_.getByteString(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeEnumSize(1, cause_.getNumber());
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < currentlyJoinedFederates_.size(); i++) {
+            dataSize += com.google.protobuf.CodedOutputStream
+              .computeBytesSizeNoTag(currentlyJoinedFederates_.getByteString(i));
+          }
+          size += dataSize;
+          size += 1 * getCurrentlyJoinedFederatesList().size();
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder>
+         implements net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.FailureOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_Failure_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_Failure_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.class, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Builder.class);
+        }
+
+        // Construct using net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          cause_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Cause.FEDERATES_CURRENTLY_JOINED;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          currentlyJoinedFederates_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_Failure_descriptor;
+        }
+
+        public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure getDefaultInstanceForType() {
+          return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.getDefaultInstance();
+        }
+
+        public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure build() {
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure buildPartial() {
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure result = new net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.cause_ = cause_;
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            currentlyJoinedFederates_ = new com.google.protobuf.UnmodifiableLazyStringList(
+                currentlyJoinedFederates_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.currentlyJoinedFederates_ = currentlyJoinedFederates_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure) {
+            return mergeFrom((net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure other) {
+          if (other == net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.getDefaultInstance()) return this;
+          if (other.hasCause()) {
+            setCause(other.getCause());
+          }
+          if (!other.currentlyJoinedFederates_.isEmpty()) {
+            if (currentlyJoinedFederates_.isEmpty()) {
+              currentlyJoinedFederates_ = other.currentlyJoinedFederates_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureCurrentlyJoinedFederatesIsMutable();
+              currentlyJoinedFederates_.addAll(other.currentlyJoinedFederates_);
+            }
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          if (!hasCause()) {
+            
+            return false;
+          }
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        // required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;
+        private net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Cause cause_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Cause.FEDERATES_CURRENTLY_JOINED;
+        /**
+         * <code>required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;</code>
+         */
+        public boolean hasCause() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;</code>
+         */
+        public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Cause getCause() {
+          return cause_;
+        }
+        /**
+         * <code>required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;</code>
+         */
+        public Builder setCause(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Cause value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bitField0_ |= 0x00000001;
+          cause_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure.Cause cause = 1;</code>
+         */
+        public Builder clearCause() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          cause_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Cause.FEDERATES_CURRENTLY_JOINED;
+          onChanged();
+          return this;
+        }
+
+        // repeated string currentlyJoinedFederates = 2;
+        private com.google.protobuf.LazyStringList currentlyJoinedFederates_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        private void ensureCurrentlyJoinedFederatesIsMutable() {
+          if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+            currentlyJoinedFederates_ = new com.google.protobuf.LazyStringArrayList(currentlyJoinedFederates_);
+            bitField0_ |= 0x00000002;
+           }
+        }
+        /**
+         * <code>repeated string currentlyJoinedFederates = 2;</code>
+         */
+        public java.util.List<java.lang.String>
+            getCurrentlyJoinedFederatesList() {
+          return java.util.Collections.unmodifiableList(currentlyJoinedFederates_);
+        }
+        /**
+         * <code>repeated string currentlyJoinedFederates = 2;</code>
+         */
+        public int getCurrentlyJoinedFederatesCount() {
+          return currentlyJoinedFederates_.size();
+        }
+        /**
+         * <code>repeated string currentlyJoinedFederates = 2;</code>
+         */
+        public java.lang.String getCurrentlyJoinedFederates(int index) {
+          return currentlyJoinedFederates_.get(index);
+        }
+        /**
+         * <code>repeated string currentlyJoinedFederates = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getCurrentlyJoinedFederatesBytes(int index) {
+          return currentlyJoinedFederates_.getByteString(index);
+        }
+        /**
+         * <code>repeated string currentlyJoinedFederates = 2;</code>
+         */
+        public Builder setCurrentlyJoinedFederates(
+            int index, java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureCurrentlyJoinedFederatesIsMutable();
+          currentlyJoinedFederates_.set(index, value);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string currentlyJoinedFederates = 2;</code>
+         */
+        public Builder addCurrentlyJoinedFederates(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureCurrentlyJoinedFederatesIsMutable();
+          currentlyJoinedFederates_.add(value);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string currentlyJoinedFederates = 2;</code>
+         */
+        public Builder addAllCurrentlyJoinedFederates(
+            java.lang.Iterable<java.lang.String> values) {
+          ensureCurrentlyJoinedFederatesIsMutable();
+          super.addAll(values, currentlyJoinedFederates_);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string currentlyJoinedFederates = 2;</code>
+         */
+        public Builder clearCurrentlyJoinedFederates() {
+          currentlyJoinedFederates_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string currentlyJoinedFederates = 2;</code>
+         */
+        public Builder addCurrentlyJoinedFederatesBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureCurrentlyJoinedFederatesIsMutable();
+          currentlyJoinedFederates_.add(value);
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure)
+      }
+
+      static {
+        defaultInstance = new Failure(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure)
+    }
+
+    private int bitField0_;
+    // required uint64 requestId = 1;
+    public static final int REQUESTID_FIELD_NUMBER = 1;
+    private long requestId_;
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    public boolean hasRequestId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
+    // optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;
+    public static final int FAILURE_FIELD_NUMBER = 2;
+    private net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure failure_;
+    /**
+     * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+     */
+    public boolean hasFailure() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+     */
+    public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure getFailure() {
+      return failure_;
+    }
+    /**
+     * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+     */
+    public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.FailureOrBuilder getFailureOrBuilder() {
+      return failure_;
+    }
+
+    private void initFields() {
+      requestId_ = 0L;
+      failure_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasRequestId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasFailure()) {
+        if (!getFailure().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, requestId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, failure_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, requestId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, failure_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.messages.proto.DestroyFederationExecutionResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.class, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getFailureFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        requestId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (failureBuilder_ == null) {
+          failure_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.getDefaultInstance();
+        } else {
+          failureBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_descriptor;
+      }
+
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse getDefaultInstanceForType() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse build() {
+        net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse buildPartial() {
+        net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse result = new net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.requestId_ = requestId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (failureBuilder_ == null) {
+          result.failure_ = failure_;
+        } else {
+          result.failure_ = failureBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse) {
+          return mergeFrom((net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse other) {
+        if (other == net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.getDefaultInstance()) return this;
+        if (other.hasRequestId()) {
+          setRequestId(other.getRequestId());
+        }
+        if (other.hasFailure()) {
+          mergeFailure(other.getFailure());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasRequestId()) {
+          
+          return false;
+        }
+        if (hasFailure()) {
+          if (!getFailure().isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint64 requestId = 1;
+      private long requestId_ ;
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public boolean hasRequestId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public Builder setRequestId(long value) {
+        bitField0_ |= 0x00000001;
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public Builder clearRequestId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;
+      private net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure failure_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Builder, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.FailureOrBuilder> failureBuilder_;
+      /**
+       * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public boolean hasFailure() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure getFailure() {
+        if (failureBuilder_ == null) {
+          return failure_;
+        } else {
+          return failureBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public Builder setFailure(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure value) {
+        if (failureBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          failure_ = value;
+          onChanged();
+        } else {
+          failureBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public Builder setFailure(
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Builder builderForValue) {
+        if (failureBuilder_ == null) {
+          failure_ = builderForValue.build();
+          onChanged();
+        } else {
+          failureBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public Builder mergeFailure(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure value) {
+        if (failureBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              failure_ != net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.getDefaultInstance()) {
+            failure_ =
+              net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.newBuilder(failure_).mergeFrom(value).buildPartial();
+          } else {
+            failure_ = value;
+          }
+          onChanged();
+        } else {
+          failureBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public Builder clearFailure() {
+        if (failureBuilder_ == null) {
+          failure_ = net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.getDefaultInstance();
+          onChanged();
+        } else {
+          failureBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Builder getFailureBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getFailureFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.FailureOrBuilder getFailureOrBuilder() {
+        if (failureBuilder_ != null) {
+          return failureBuilder_.getMessageOrBuilder();
+        } else {
+          return failure_;
+        }
+      }
+      /**
+       * <code>optional .ohla.rti.messages.proto.DestroyFederationExecutionResponse.Failure failure = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Builder, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.FailureOrBuilder> 
+          getFailureFieldBuilder() {
+        if (failureBuilder_ == null) {
+          failureBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.Failure.Builder, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.DestroyFederationExecutionResponse.FailureOrBuilder>(
+                  failure_,
+                  getParentForChildren(),
+                  isClean());
+          failure_ = null;
+        }
+        return failureBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.messages.proto.DestroyFederationExecutionResponse)
+    }
+
+    static {
+      defaultInstance = new DestroyFederationExecutionResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.DestroyFederationExecutionResponse)
+  }
+
+  public interface ReportFederationExecutionsOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;
+    /**
+     * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+     */
+    java.util.List<net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation> 
+        getFederationExecutionInformationsList();
+    /**
+     * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+     */
+    net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation getFederationExecutionInformations(int index);
+    /**
+     * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+     */
+    int getFederationExecutionInformationsCount();
+    /**
+     * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+     */
+    java.util.List<? extends net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformationOrBuilder> 
+        getFederationExecutionInformationsOrBuilderList();
+    /**
+     * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+     */
+    net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformationOrBuilder getFederationExecutionInformationsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code ohla.rti.messages.proto.ReportFederationExecutions}
+   */
+  public static final class ReportFederationExecutions extends
+      com.google.protobuf.GeneratedMessage
+      implements ReportFederationExecutionsOrBuilder {
+    // Use ReportFederationExecutions.newBuilder() to construct.
+    private ReportFederationExecutions(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ReportFederationExecutions(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final ReportFederationExecutions defaultInstance;
+    public static ReportFederationExecutions getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ReportFederationExecutions getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ReportFederationExecutions(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                federationExecutionInformations_ = new java.util.ArrayList<net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              federationExecutionInformations_.add(input.readMessage(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          federationExecutionInformations_ = java.util.Collections.unmodifiableList(federationExecutionInformations_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_ReportFederationExecutions_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_ReportFederationExecutions_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.class, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ReportFederationExecutions> PARSER =
+        new com.google.protobuf.AbstractParser<ReportFederationExecutions>() {
+      public ReportFederationExecutions parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ReportFederationExecutions(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ReportFederationExecutions> getParserForType() {
+      return PARSER;
+    }
+
+    public interface FederationExecutionInformationOrBuilder
+        extends com.google.protobuf.MessageOrBuilder {
+
+      // required string federationExecutionName = 1;
+      /**
+       * <code>required string federationExecutionName = 1;</code>
+       */
+      boolean hasFederationExecutionName();
+      /**
+       * <code>required string federationExecutionName = 1;</code>
+       */
+      java.lang.String getFederationExecutionName();
+      /**
+       * <code>required string federationExecutionName = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getFederationExecutionNameBytes();
+
+      // required string logicalTimeImplementationName = 2;
+      /**
+       * <code>required string logicalTimeImplementationName = 2;</code>
+       */
+      boolean hasLogicalTimeImplementationName();
+      /**
+       * <code>required string logicalTimeImplementationName = 2;</code>
+       */
+      java.lang.String getLogicalTimeImplementationName();
+      /**
+       * <code>required string logicalTimeImplementationName = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getLogicalTimeImplementationNameBytes();
+    }
+    /**
+     * Protobuf type {@code ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation}
+     */
+    public static final class FederationExecutionInformation extends
+        com.google.protobuf.GeneratedMessage
+        implements FederationExecutionInformationOrBuilder {
+      // Use FederationExecutionInformation.newBuilder() to construct.
+      private FederationExecutionInformation(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private FederationExecutionInformation(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final FederationExecutionInformation defaultInstance;
+      public static FederationExecutionInformation getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public FederationExecutionInformation getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private FederationExecutionInformation(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                bitField0_ |= 0x00000001;
+                federationExecutionName_ = input.readBytes();
+                break;
+              }
+              case 18: {
+                bitField0_ |= 0x00000002;
+                logicalTimeImplementationName_ = input.readBytes();
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_ReportFederationExecutions_FederationExecutionInformation_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_ReportFederationExecutions_FederationExecutionInformation_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.class, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<FederationExecutionInformation> PARSER =
+          new com.google.protobuf.AbstractParser<FederationExecutionInformation>() {
+        public FederationExecutionInformation parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new FederationExecutionInformation(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<FederationExecutionInformation> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      // required string federationExecutionName = 1;
+      public static final int FEDERATIONEXECUTIONNAME_FIELD_NUMBER = 1;
+      private java.lang.Object federationExecutionName_;
+      /**
+       * <code>required string federationExecutionName = 1;</code>
+       */
+      public boolean hasFederationExecutionName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string federationExecutionName = 1;</code>
+       */
+      public java.lang.String getFederationExecutionName() {
+        java.lang.Object ref = federationExecutionName_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            federationExecutionName_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>required string federationExecutionName = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFederationExecutionNameBytes() {
+        java.lang.Object ref = federationExecutionName_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          federationExecutionName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      // required string logicalTimeImplementationName = 2;
+      public static final int LOGICALTIMEIMPLEMENTATIONNAME_FIELD_NUMBER = 2;
+      private java.lang.Object logicalTimeImplementationName_;
+      /**
+       * <code>required string logicalTimeImplementationName = 2;</code>
+       */
+      public boolean hasLogicalTimeImplementationName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string logicalTimeImplementationName = 2;</code>
+       */
+      public java.lang.String getLogicalTimeImplementationName() {
+        java.lang.Object ref = logicalTimeImplementationName_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            logicalTimeImplementationName_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>required string logicalTimeImplementationName = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLogicalTimeImplementationNameBytes() {
+        java.lang.Object ref = logicalTimeImplementationName_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          logicalTimeImplementationName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private void initFields() {
+        federationExecutionName_ = "";
+        logicalTimeImplementationName_ = "";
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized != -1) return isInitialized == 1;
+
+        if (!hasFederationExecutionName()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        if (!hasLogicalTimeImplementationName()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getFederationExecutionNameBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getLogicalTimeImplementationNameBytes());
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getFederationExecutionNameBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getLogicalTimeImplementationNameBytes());
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder>
+         implements net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformationOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_ReportFederationExecutions_FederationExecutionInformation_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_ReportFederationExecutions_FederationExecutionInformation_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.class, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.Builder.class);
+        }
+
+        // Construct using net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          federationExecutionName_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          logicalTimeImplementationName_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_ReportFederationExecutions_FederationExecutionInformation_descriptor;
+        }
+
+        public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation getDefaultInstanceForType() {
+          return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.getDefaultInstance();
+        }
+
+        public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation build() {
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation buildPartial() {
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation result = new net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.federationExecutionName_ = federationExecutionName_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.logicalTimeImplementationName_ = logicalTimeImplementationName_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation) {
+            return mergeFrom((net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation other) {
+          if (other == net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.getDefaultInstance()) return this;
+          if (other.hasFederationExecutionName()) {
+            bitField0_ |= 0x00000001;
+            federationExecutionName_ = other.federationExecutionName_;
+            onChanged();
+          }
+          if (other.hasLogicalTimeImplementationName()) {
+            bitField0_ |= 0x00000002;
+            logicalTimeImplementationName_ = other.logicalTimeImplementationName_;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          if (!hasFederationExecutionName()) {
+            
+            return false;
+          }
+          if (!hasLogicalTimeImplementationName()) {
+            
+            return false;
+          }
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        // required string federationExecutionName = 1;
+        private java.lang.Object federationExecutionName_ = "";
+        /**
+         * <code>required string federationExecutionName = 1;</code>
+         */
+        public boolean hasFederationExecutionName() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>required string federationExecutionName = 1;</code>
+         */
+        public java.lang.String getFederationExecutionName() {
+          java.lang.Object ref = federationExecutionName_;
+          if (!(ref instanceof java.lang.String)) {
+            java.lang.String s = ((com.google.protobuf.ByteString) ref)
+                .toStringUtf8();
+            federationExecutionName_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>required string federationExecutionName = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getFederationExecutionNameBytes() {
+          java.lang.Object ref = federationExecutionName_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            federationExecutionName_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>required string federationExecutionName = 1;</code>
+         */
+        public Builder setFederationExecutionName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          federationExecutionName_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required string federationExecutionName = 1;</code>
+         */
+        public Builder clearFederationExecutionName() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          federationExecutionName_ = getDefaultInstance().getFederationExecutionName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required string federationExecutionName = 1;</code>
+         */
+        public Builder setFederationExecutionNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          federationExecutionName_ = value;
+          onChanged();
+          return this;
+        }
+
+        // required string logicalTimeImplementationName = 2;
+        private java.lang.Object logicalTimeImplementationName_ = "";
+        /**
+         * <code>required string logicalTimeImplementationName = 2;</code>
+         */
+        public boolean hasLogicalTimeImplementationName() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>required string logicalTimeImplementationName = 2;</code>
+         */
+        public java.lang.String getLogicalTimeImplementationName() {
+          java.lang.Object ref = logicalTimeImplementationName_;
+          if (!(ref instanceof java.lang.String)) {
+            java.lang.String s = ((com.google.protobuf.ByteString) ref)
+                .toStringUtf8();
+            logicalTimeImplementationName_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>required string logicalTimeImplementationName = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getLogicalTimeImplementationNameBytes() {
+          java.lang.Object ref = logicalTimeImplementationName_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            logicalTimeImplementationName_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>required string logicalTimeImplementationName = 2;</code>
+         */
+        public Builder setLogicalTimeImplementationName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          logicalTimeImplementationName_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required string logicalTimeImplementationName = 2;</code>
+         */
+        public Builder clearLogicalTimeImplementationName() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          logicalTimeImplementationName_ = getDefaultInstance().getLogicalTimeImplementationName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required string logicalTimeImplementationName = 2;</code>
+         */
+        public Builder setLogicalTimeImplementationNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          logicalTimeImplementationName_ = value;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation)
+      }
+
+      static {
+        defaultInstance = new FederationExecutionInformation(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation)
+    }
+
+    // repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;
+    public static final int FEDERATIONEXECUTIONINFORMATIONS_FIELD_NUMBER = 1;
+    private java.util.List<net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation> federationExecutionInformations_;
+    /**
+     * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+     */
+    public java.util.List<net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation> getFederationExecutionInformationsList() {
+      return federationExecutionInformations_;
+    }
+    /**
+     * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+     */
+    public java.util.List<? extends net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformationOrBuilder> 
+        getFederationExecutionInformationsOrBuilderList() {
+      return federationExecutionInformations_;
+    }
+    /**
+     * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+     */
+    public int getFederationExecutionInformationsCount() {
+      return federationExecutionInformations_.size();
+    }
+    /**
+     * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+     */
+    public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation getFederationExecutionInformations(int index) {
+      return federationExecutionInformations_.get(index);
+    }
+    /**
+     * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+     */
+    public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformationOrBuilder getFederationExecutionInformationsOrBuilder(
+        int index) {
+      return federationExecutionInformations_.get(index);
+    }
+
+    private void initFields() {
+      federationExecutionInformations_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getFederationExecutionInformationsCount(); i++) {
+        if (!getFederationExecutionInformations(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < federationExecutionInformations_.size(); i++) {
+        output.writeMessage(1, federationExecutionInformations_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < federationExecutionInformations_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, federationExecutionInformations_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.messages.proto.ReportFederationExecutions}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutionsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_ReportFederationExecutions_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_ReportFederationExecutions_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.class, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getFederationExecutionInformationsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (federationExecutionInformationsBuilder_ == null) {
+          federationExecutionInformations_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          federationExecutionInformationsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.internal_static_ohla_rti_messages_proto_ReportFederationExecutions_descriptor;
+      }
+
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions getDefaultInstanceForType() {
+        return net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions build() {
+        net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions buildPartial() {
+        net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions result = new net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions(this);
+        int from_bitField0_ = bitField0_;
+        if (federationExecutionInformationsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            federationExecutionInformations_ = java.util.Collections.unmodifiableList(federationExecutionInformations_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.federationExecutionInformations_ = federationExecutionInformations_;
+        } else {
+          result.federationExecutionInformations_ = federationExecutionInformationsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions) {
+          return mergeFrom((net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions other) {
+        if (other == net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.getDefaultInstance()) return this;
+        if (federationExecutionInformationsBuilder_ == null) {
+          if (!other.federationExecutionInformations_.isEmpty()) {
+            if (federationExecutionInformations_.isEmpty()) {
+              federationExecutionInformations_ = other.federationExecutionInformations_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureFederationExecutionInformationsIsMutable();
+              federationExecutionInformations_.addAll(other.federationExecutionInformations_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.federationExecutionInformations_.isEmpty()) {
+            if (federationExecutionInformationsBuilder_.isEmpty()) {
+              federationExecutionInformationsBuilder_.dispose();
+              federationExecutionInformationsBuilder_ = null;
+              federationExecutionInformations_ = other.federationExecutionInformations_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              federationExecutionInformationsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getFederationExecutionInformationsFieldBuilder() : null;
+            } else {
+              federationExecutionInformationsBuilder_.addAllMessages(other.federationExecutionInformations_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getFederationExecutionInformationsCount(); i++) {
+          if (!getFederationExecutionInformations(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;
+      private java.util.List<net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation> federationExecutionInformations_ =
+        java.util.Collections.emptyList();
+      private void ensureFederationExecutionInformationsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          federationExecutionInformations_ = new java.util.ArrayList<net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation>(federationExecutionInformations_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.Builder, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformationOrBuilder> federationExecutionInformationsBuilder_;
+
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation> getFederationExecutionInformationsList() {
+        if (federationExecutionInformationsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(federationExecutionInformations_);
+        } else {
+          return federationExecutionInformationsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public int getFederationExecutionInformationsCount() {
+        if (federationExecutionInformationsBuilder_ == null) {
+          return federationExecutionInformations_.size();
+        } else {
+          return federationExecutionInformationsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation getFederationExecutionInformations(int index) {
+        if (federationExecutionInformationsBuilder_ == null) {
+          return federationExecutionInformations_.get(index);
+        } else {
+          return federationExecutionInformationsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public Builder setFederationExecutionInformations(
+          int index, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation value) {
+        if (federationExecutionInformationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFederationExecutionInformationsIsMutable();
+          federationExecutionInformations_.set(index, value);
+          onChanged();
+        } else {
+          federationExecutionInformationsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public Builder setFederationExecutionInformations(
+          int index, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.Builder builderForValue) {
+        if (federationExecutionInformationsBuilder_ == null) {
+          ensureFederationExecutionInformationsIsMutable();
+          federationExecutionInformations_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          federationExecutionInformationsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public Builder addFederationExecutionInformations(net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation value) {
+        if (federationExecutionInformationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFederationExecutionInformationsIsMutable();
+          federationExecutionInformations_.add(value);
+          onChanged();
+        } else {
+          federationExecutionInformationsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public Builder addFederationExecutionInformations(
+          int index, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation value) {
+        if (federationExecutionInformationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFederationExecutionInformationsIsMutable();
+          federationExecutionInformations_.add(index, value);
+          onChanged();
+        } else {
+          federationExecutionInformationsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public Builder addFederationExecutionInformations(
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.Builder builderForValue) {
+        if (federationExecutionInformationsBuilder_ == null) {
+          ensureFederationExecutionInformationsIsMutable();
+          federationExecutionInformations_.add(builderForValue.build());
+          onChanged();
+        } else {
+          federationExecutionInformationsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public Builder addFederationExecutionInformations(
+          int index, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.Builder builderForValue) {
+        if (federationExecutionInformationsBuilder_ == null) {
+          ensureFederationExecutionInformationsIsMutable();
+          federationExecutionInformations_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          federationExecutionInformationsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public Builder addAllFederationExecutionInformations(
+          java.lang.Iterable<? extends net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation> values) {
+        if (federationExecutionInformationsBuilder_ == null) {
+          ensureFederationExecutionInformationsIsMutable();
+          super.addAll(values, federationExecutionInformations_);
+          onChanged();
+        } else {
+          federationExecutionInformationsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public Builder clearFederationExecutionInformations() {
+        if (federationExecutionInformationsBuilder_ == null) {
+          federationExecutionInformations_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          federationExecutionInformationsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public Builder removeFederationExecutionInformations(int index) {
+        if (federationExecutionInformationsBuilder_ == null) {
+          ensureFederationExecutionInformationsIsMutable();
+          federationExecutionInformations_.remove(index);
+          onChanged();
+        } else {
+          federationExecutionInformationsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.Builder getFederationExecutionInformationsBuilder(
+          int index) {
+        return getFederationExecutionInformationsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformationOrBuilder getFederationExecutionInformationsOrBuilder(
+          int index) {
+        if (federationExecutionInformationsBuilder_ == null) {
+          return federationExecutionInformations_.get(index);  } else {
+          return federationExecutionInformationsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public java.util.List<? extends net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformationOrBuilder> 
+           getFederationExecutionInformationsOrBuilderList() {
+        if (federationExecutionInformationsBuilder_ != null) {
+          return federationExecutionInformationsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(federationExecutionInformations_);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.Builder addFederationExecutionInformationsBuilder() {
+        return getFederationExecutionInformationsFieldBuilder().addBuilder(
+            net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.Builder addFederationExecutionInformationsBuilder(
+          int index) {
+        return getFederationExecutionInformationsFieldBuilder().addBuilder(
+            index, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.messages.proto.ReportFederationExecutions.FederationExecutionInformation federationExecutionInformations = 1;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.Builder> 
+           getFederationExecutionInformationsBuilderList() {
+        return getFederationExecutionInformationsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.Builder, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformationOrBuilder> 
+          getFederationExecutionInformationsFieldBuilder() {
+        if (federationExecutionInformationsBuilder_ == null) {
+          federationExecutionInformationsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformation.Builder, net.sf.ohla.rti.messages.proto.ConnectedMessageProtos.ReportFederationExecutions.FederationExecutionInformationOrBuilder>(
+                  federationExecutionInformations_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          federationExecutionInformations_ = null;
+        }
+        return federationExecutionInformationsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.messages.proto.ReportFederationExecutions)
+    }
+
+    static {
+      defaultInstance = new ReportFederationExecutions(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ReportFederationExecutions)
+  }
+
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_Failure_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_Failure_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_Failure_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_Failure_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_messages_proto_ReportFederationExecutions_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_messages_proto_ReportFederationExecutions_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_messages_proto_ReportFederationExecutions_FederationExecutionInformation_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_messages_proto_ReportFederationExecutions_FederationExecutionInformation_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\034ConnectedMessageProtos.proto\022\027ohla.rti" +
+      ".messages.proto\"\315\002\n!CreateFederationExec" +
+      "utionResponse\022\021\n\trequestId\030\001 \002(\004\022S\n\007fail" +
+      "ure\030\002 \001(\0132B.ohla.rti.messages.proto.Crea" +
+      "teFederationExecutionResponse.Failure\032\277\001" +
+      "\n\007Failure\022W\n\005cause\030\001 \002(\0162H.ohla.rti.mess" +
+      "ages.proto.CreateFederationExecutionResp" +
+      "onse.Failure.Cause\"[\n\005Cause\022\'\n#FEDERATIO" +
+      "N_EXECUTION_ALREADY_EXISTS\020\001\022)\n%COULD_NO" +
+      "T_CREATE_LOGICAL_TIME_FACTORY\020\002\"\347\002\n\"Dest",
+      "royFederationExecutionResponse\022\021\n\treques" +
+      "tId\030\001 \002(\004\022T\n\007failure\030\002 \001(\0132C.ohla.rti.me" +
+      "ssages.proto.DestroyFederationExecutionR" +
+      "esponse.Failure\032\327\001\n\007Failure\022X\n\005cause\030\001 \002" +
+      "(\0162I.ohla.rti.messages.proto.DestroyFede" +
+      "rationExecutionResponse.Failure.Cause\022 \n" +
+      "\030currentlyJoinedFederates\030\002 \003(\t\"P\n\005Cause" +
+      "\022\036\n\032FEDERATES_CURRENTLY_JOINED\020\001\022\'\n#FEDE" +
+      "RATION_EXECUTION_DOES_NOT_EXIST\020\002\"\203\002\n\032Re" +
+      "portFederationExecutions\022{\n\037federationEx",
+      "ecutionInformations\030\001 \003(\0132R.ohla.rti.mes" +
+      "sages.proto.ReportFederationExecutions.F" +
+      "ederationExecutionInformation\032h\n\036Federat" +
+      "ionExecutionInformation\022\037\n\027federationExe" +
+      "cutionName\030\001 \002(\t\022%\n\035logicalTimeImplement" +
+      "ationName\030\002 \002(\tB \n\036net.sf.ohla.rti.messa" +
+      "ges.proto"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+      new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
+        public com.google.protobuf.ExtensionRegistry assignDescriptors(
+            com.google.protobuf.Descriptors.FileDescriptor root) {
+          descriptor = root;
+          internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_descriptor =
+            getDescriptor().getMessageTypes().get(0);
+          internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_descriptor,
+              new java.lang.String[] { "RequestId", "Failure", });
+          internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_Failure_descriptor =
+            internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_descriptor.getNestedTypes().get(0);
+          internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_Failure_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_messages_proto_CreateFederationExecutionResponse_Failure_descriptor,
+              new java.lang.String[] { "Cause", });
+          internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_descriptor =
+            getDescriptor().getMessageTypes().get(1);
+          internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_descriptor,
+              new java.lang.String[] { "RequestId", "Failure", });
+          internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_Failure_descriptor =
+            internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_descriptor.getNestedTypes().get(0);
+          internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_Failure_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_messages_proto_DestroyFederationExecutionResponse_Failure_descriptor,
+              new java.lang.String[] { "Cause", "CurrentlyJoinedFederates", });
+          internal_static_ohla_rti_messages_proto_ReportFederationExecutions_descriptor =
+            getDescriptor().getMessageTypes().get(2);
+          internal_static_ohla_rti_messages_proto_ReportFederationExecutions_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_messages_proto_ReportFederationExecutions_descriptor,
+              new java.lang.String[] { "FederationExecutionInformations", });
+          internal_static_ohla_rti_messages_proto_ReportFederationExecutions_FederationExecutionInformation_descriptor =
+            internal_static_ohla_rti_messages_proto_ReportFederationExecutions_descriptor.getNestedTypes().get(0);
+          internal_static_ohla_rti_messages_proto_ReportFederationExecutions_FederationExecutionInformation_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_messages_proto_ReportFederationExecutions_FederationExecutionInformation_descriptor,
+              new java.lang.String[] { "FederationExecutionName", "LogicalTimeImplementationName", });
+          return null;
+        }
+      };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        }, assigner);
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,3023 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageProtos.proto
+
+package net.sf.ohla.rti.messages.proto;
+
+public final class MessageProtos {
+  private MessageProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+  }
+  /**
+   * Protobuf enum {@code ohla.rti.messages.proto.MessageType}
+   */
+  public enum MessageType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>FDD_UPDATED = 1;</code>
+     */
+    FDD_UPDATED(0, 1),
+    /**
+     * <code>CREATE_FEDERATION_EXECUTION = 2;</code>
+     */
+    CREATE_FEDERATION_EXECUTION(1, 2),
+    /**
+     * <code>CREATE_FEDERATION_EXECUTION_RESPONSE = 3;</code>
+     */
+    CREATE_FEDERATION_EXECUTION_RESPONSE(2, 3),
+    /**
+     * <code>DESTROY_FEDERATION_EXECUTION = 4;</code>
+     */
+    DESTROY_FEDERATION_EXECUTION(3, 4),
+    /**
+     * <code>DESTROY_FEDERATION_EXECUTION_RESPONSE = 5;</code>
+     */
+    DESTROY_FEDERATION_EXECUTION_RESPONSE(4, 5),
+    /**
+     * <code>LIST_FEDERATION_EXECUTIONS = 6;</code>
+     */
+    LIST_FEDERATION_EXECUTIONS(5, 6),
+    /**
+     * <code>JOIN_FEDERATION_EXECUTION = 7;</code>
+     */
+    JOIN_FEDERATION_EXECUTION(6, 7),
+    /**
+     * <code>JOIN_FEDERATION_EXECUTION_RESPONSE = 8;</code>
+     */
+    JOIN_FEDERATION_EXECUTION_RESPONSE(7, 8),
+    /**
+     * <code>RESIGN_FEDERATION_EXECUTION = 9;</code>
+     */
+    RESIGN_FEDERATION_EXECUTION(8, 9),
+    /**
+     * <code>RESIGNED_FEDERATION_EXECUTION = 10;</code>
+     */
+    RESIGNED_FEDERATION_EXECUTION(9, 10),
+    /**
+     * <code>REGISTER_FEDERATION_SYNCHRONIZATION_POINT = 11;</code>
+     */
+    REGISTER_FEDERATION_SYNCHRONIZATION_POINT(10, 11),
+    /**
+     * <code>SYNCHRONIZATION_POINT_ACHIEVED = 12;</code>
+     */
+    SYNCHRONIZATION_POINT_ACHIEVED(11, 12),
+    /**
+     * <code>REQUEST_FEDERATION_SAVE = 13;</code>
+     */
+    REQUEST_FEDERATION_SAVE(12, 13),
+    /**
+     * <code>REQUEST_FEDERATION_SAVE_RESPONSE = 14;</code>
+     */
+    REQUEST_FEDERATION_SAVE_RESPONSE(13, 14),
+    /**
+     * <code>FEDERATE_SAVE_BEGUN = 15;</code>
+     */
+    FEDERATE_SAVE_BEGUN(14, 15),
+    /**
+     * <code>FEDERATE_SAVE_COMPLETE = 16;</code>
+     */
+    FEDERATE_SAVE_COMPLETE(15, 16),
+    /**
+     * <code>FEDERATE_SAVE_NOT_COMPLETE = 17;</code>
+     */
+    FEDERATE_SAVE_NOT_COMPLETE(16, 17),
+    /**
+     * <code>ABORT_FEDERATION_SAVE = 18;</code>
+     */
+    ABORT_FEDERATION_SAVE(17, 18),
+    /**
+     * <code>ABORT_FEDERATION_SAVE_RESPONSE = 19;</code>
+     */
+    ABORT_FEDERATION_SAVE_RESPONSE(18, 19),
+    /**
+     * <code>QUERY_FEDERATION_SAVE_STATUS = 20;</code>
+     */
+    QUERY_FEDERATION_SAVE_STATUS(19, 20),
+    /**
+     * <code>REQUEST_FEDERATION_RESTORE = 21;</code>
+     */
+    REQUEST_FEDERATION_RESTORE(20, 21),
+    /**
+     * <code>REQUEST_FEDERATION_RESTORE_RESPONSE = 22;</code>
+     */
+    REQUEST_FEDERATION_RESTORE_RESPONSE(21, 22),
+    /**
+     * <code>FEDERATE_RESTORE_COMPLETE = 23;</code>
+     */
+    FEDERATE_RESTORE_COMPLETE(22, 23),
+    /**
+     * <code>FEDERATE_RESTORE_NOT_COMPLETE = 24;</code>
+     */
+    FEDERATE_RESTORE_NOT_COMPLETE(23, 24),
+    /**
+     * <code>ABORT_FEDERATION_RESTORE = 25;</code>
+     */
+    ABORT_FEDERATION_RESTORE(24, 25),
+    /**
+     * <code>ABORT_FEDERATION_RESTORE_RESPONSE = 26;</code>
+     */
+    ABORT_FEDERATION_RESTORE_RESPONSE(25, 26),
+    /**
+     * <code>QUERY_FEDERATION_RESTORE_STATUS = 27;</code>
+     */
+    QUERY_FEDERATION_RESTORE_STATUS(26, 27),
+    /**
+     * <code>PUBLISH_OBJECT_CLASS_ATTRIBUTES = 28;</code>
+     */
+    PUBLISH_OBJECT_CLASS_ATTRIBUTES(27, 28),
+    /**
+     * <code>UNPUBLISH_OBJECT_CLASS = 29;</code>
+     */
+    UNPUBLISH_OBJECT_CLASS(28, 29),
+    /**
+     * <code>UNPUBLISH_OBJECT_CLASS_ATTRIBUTES = 30;</code>
+     */
+    UNPUBLISH_OBJECT_CLASS_ATTRIBUTES(29, 30),
+    /**
+     * <code>PUBLISH_INTERACTION_CLASS = 31;</code>
+     */
+    PUBLISH_INTERACTION_CLASS(30, 31),
+    /**
+     * <code>UNPUBLISH_INTERACTION_CLASS = 32;</code>
+     */
+    UNPUBLISH_INTERACTION_CLASS(31, 32),
+    /**
+     * <code>SUBSCRIBE_OBJECT_CLASS_ATTRIBUTES = 33;</code>
+     */
+    SUBSCRIBE_OBJECT_CLASS_ATTRIBUTES(32, 33),
+    /**
+     * <code>UNSUBSCRIBE_OBJECT_CLASS_ATTRIBUTES = 34;</code>
+     */
+    UNSUBSCRIBE_OBJECT_CLASS_ATTRIBUTES(33, 34),
+    /**
+     * <code>SUBSCRIBE_INTERACTION_CLASS = 35;</code>
+     */
+    SUBSCRIBE_INTERACTION_CLASS(34, 35),
+    /**
+     * <code>UNSUBSCRIBE_INTERACTION_CLASS = 36;</code>
+     */
+    UNSUBSCRIBE_INTERACTION_CLASS(35, 36),
+    /**
+     * <code>RESERVE_OBJECT_INSTANCE_NAME = 37;</code>
+     */
+    RESERVE_OBJECT_INSTANCE_NAME(36, 37),
+    /**
+     * <code>RELEASE_OBJECT_INSTANCE_NAME = 38;</code>
+     */
+    RELEASE_OBJECT_INSTANCE_NAME(37, 38),
+    /**
+     * <code>RESERVE_MULTIPLE_OBJECT_INSTANCE_NAME = 39;</code>
+     */
+    RESERVE_MULTIPLE_OBJECT_INSTANCE_NAME(38, 39),
+    /**
+     * <code>MULTIPLE_OBJECT_INSTANCE_NAME_RESERVATION_SUCCEEDED = 40;</code>
+     */
+    MULTIPLE_OBJECT_INSTANCE_NAME_RESERVATION_SUCCEEDED(39, 40),
+    /**
+     * <code>MULTIPLE_OBJECT_INSTANCE_NAME_RESERVATION_FAILED = 41;</code>
+     */
+    MULTIPLE_OBJECT_INSTANCE_NAME_RESERVATION_FAILED(40, 41),
+    /**
+     * <code>RELEASE_MULTIPLE_OBJECT_INSTANCE_NAME = 42;</code>
+     */
+    RELEASE_MULTIPLE_OBJECT_INSTANCE_NAME(41, 42),
+    /**
+     * <code>REGISTER_OBJECT_INSTANCE = 43;</code>
+     */
+    REGISTER_OBJECT_INSTANCE(42, 43),
+    /**
+     * <code>UPDATE_ATTRIBUTE_VALUES = 44;</code>
+     */
+    UPDATE_ATTRIBUTE_VALUES(43, 44),
+    /**
+     * <code>SEND_INTERACTION = 45;</code>
+     */
+    SEND_INTERACTION(44, 45),
+    /**
+     * <code>DELETE_OBJECT_INSTANCE = 46;</code>
+     */
+    DELETE_OBJECT_INSTANCE(45, 46),
+    /**
+     * <code>LOCAL_DELETE_OBJECT_INSTANCE = 47;</code>
+     */
+    LOCAL_DELETE_OBJECT_INSTANCE(46, 47),
+    /**
+     * <code>REQUEST_OBJECT_INSTANCE_ATTRIBUTE_VALUE_UPDATE = 48;</code>
+     */
+    REQUEST_OBJECT_INSTANCE_ATTRIBUTE_VALUE_UPDATE(47, 48),
+    /**
+     * <code>REQUEST_OBJECT_CLASS_ATTRIBUTE_VALUE_UPDATE = 49;</code>
+     */
+    REQUEST_OBJECT_CLASS_ATTRIBUTE_VALUE_UPDATE(48, 49),
+    /**
+     * <code>REQUEST_OBJECT_CLASS_ATTRIBUTE_VALUE_UPDATE_WITH_REGIONS = 50;</code>
+     */
+    REQUEST_OBJECT_CLASS_ATTRIBUTE_VALUE_UPDATE_WITH_REGIONS(49, 50),
+    /**
+     * <code>SET_AUTOMATIC_RESIGN_DIRECTIVE = 51;</code>
+     */
+    SET_AUTOMATIC_RESIGN_DIRECTIVE(50, 51),
+    /**
+     * <code>GET_FEDERATE_HANDLE = 52;</code>
+     */
+    GET_FEDERATE_HANDLE(51, 52),
+    /**
+     * <code>GET_FEDERATE_HANDLE_RESPONSE = 53;</code>
+     */
+    GET_FEDERATE_HANDLE_RESPONSE(52, 53),
+    /**
+     * <code>GET_FEDERATE_NAME = 54;</code>
+     */
+    GET_FEDERATE_NAME(53, 54),
+    /**
+     * <code>GET_FEDERATE_NAME_RESPONSE = 55;</code>
+     */
+    GET_FEDERATE_NAME_RESPONSE(54, 55),
+    /**
+     * <code>GET_UPDATE_RATE_VALUE_FOR_ATTRIBUTE = 56;</code>
+     */
+    GET_UPDATE_RATE_VALUE_FOR_ATTRIBUTE(55, 56),
+    /**
+     * <code>GET_UPDATE_RATE_VALUE_FOR_ATTRIBUTE_RESPONSE = 57;</code>
+     */
+    GET_UPDATE_RATE_VALUE_FOR_ATTRIBUTE_RESPONSE(56, 57),
+    /**
+     * <code>QUERY_INTERACTION_TRANSPORTATION_TYPE = 58;</code>
+     */
+    QUERY_INTERACTION_TRANSPORTATION_TYPE(57, 58),
+    /**
+     * <code>REPORT_INTERACTION_TRANSPORTATION_TYPE = 59;</code>
+     */
+    REPORT_INTERACTION_TRANSPORTATION_TYPE(58, 59),
+    /**
+     * <code>UNCONDITIONAL_ATTRIBUTE_OWNERSHIP_DIVESTITURE = 60;</code>
+     */
+    UNCONDITIONAL_ATTRIBUTE_OWNERSHIP_DIVESTITURE(59, 60),
+    /**
+     * <code>NEGOTIATED_ATTRIBUTE_OWNERSHIP_DIVESTITURE = 61;</code>
+     */
+    NEGOTIATED_ATTRIBUTE_OWNERSHIP_DIVESTITURE(60, 61),
+    /**
+     * <code>CONFIRM_DIVESTITURE = 62;</code>
+     */
+    CONFIRM_DIVESTITURE(61, 62),
+    /**
+     * <code>ATTRIBUTE_OWNERSHIP_ACQUISITION = 63;</code>
+     */
+    ATTRIBUTE_OWNERSHIP_ACQUISITION(62, 63),
+    /**
+     * <code>ATTRIBUTE_OWNERSHIP_ACQUISITION_IF_AVAILABLE = 64;</code>
+     */
+    ATTRIBUTE_OWNERSHIP_ACQUISITION_IF_AVAILABLE(63, 64),
+    /**
+     * <code>ATTRIBUTE_OWNERSHIP_DIVESTITURE_IF_WANTED = 65;</code>
+     */
+    ATTRIBUTE_OWNERSHIP_DIVESTITURE_IF_WANTED(64, 65),
+    /**
+     * <code>ATTRIBUTE_OWNERSHIP_DIVESTITURE_IF_WANTED_RESPONSE = 66;</code>
+     */
+    ATTRIBUTE_OWNERSHIP_DIVESTITURE_IF_WANTED_RESPONSE(65, 66),
+    /**
+     * <code>CANCEL_NEGOTIATED_ATTRIBUTE_OWNERSHIP_DIVESTITURE = 67;</code>
+     */
+    CANCEL_NEGOTIATED_ATTRIBUTE_OWNERSHIP_DIVESTITURE(66, 67),
+    /**
+     * <code>CANCEL_ATTRIBUTE_OWNERSHIP_ACQUISITION = 68;</code>
+     */
+    CANCEL_ATTRIBUTE_OWNERSHIP_ACQUISITION(67, 68),
+    /**
+     * <code>QUERY_ATTRIBUTE_OWNERSHIP = 69;</code>
+     */
+    QUERY_ATTRIBUTE_OWNERSHIP(68, 69),
+    /**
+     * <code>ENABLE_TIME_REGULATION = 70;</code>
+     */
+    ENABLE_TIME_REGULATION(69, 70),
+    /**
+     * <code>DISABLE_TIME_REGULATION = 71;</code>
+     */
+    DISABLE_TIME_REGULATION(70, 71),
+    /**
+     * <code>ENABLE_TIME_CONSTRAINED = 72;</code>
+     */
+    ENABLE_TIME_CONSTRAINED(71, 72),
+    /**
+     * <code>DISABLE_TIME_CONSTRAINED = 73;</code>
+     */
+    DISABLE_TIME_CONSTRAINED(72, 73),
+    /**
+     * <code>TIME_ADVANCE_REQUEST = 74;</code>
+     */
+    TIME_ADVANCE_REQUEST(73, 74),
+    /**
+     * <code>TIME_ADVANCE_REQUEST_AVAILABLE = 75;</code>
+     */
+    TIME_ADVANCE_REQUEST_AVAILABLE(74, 75),
+    /**
+     * <code>NEXT_MESSAGE_REQUEST = 76;</code>
+     */
+    NEXT_MESSAGE_REQUEST(75, 76),
+    /**
+     * <code>NEXT_MESSAGE_REQUEST_AVAILABLE = 77;</code>
+     */
+    NEXT_MESSAGE_REQUEST_AVAILABLE(76, 77),
+    /**
+     * <code>FLUSH_QUEUE_REQUEST = 78;</code>
+     */
+    FLUSH_QUEUE_REQUEST(77, 78),
+    /**
+     * <code>QUERY_GALT = 79;</code>
+     */
+    QUERY_GALT(78, 79),
+    /**
+     * <code>QUERY_GALT_RESPONSE = 80;</code>
+     */
+    QUERY_GALT_RESPONSE(79, 80),
+    /**
+     * <code>QUERY_LITS = 81;</code>
+     */
+    QUERY_LITS(80, 81),
+    /**
+     * <code>QUERY_LITS_RESPONSE = 82;</code>
+     */
+    QUERY_LITS_RESPONSE(81, 82),
+    /**
+     * <code>MODIFY_LOOKAHEAD = 83;</code>
+     */
+    MODIFY_LOOKAHEAD(82, 83),
+    /**
+     * <code>RETRACT = 84;</code>
+     */
+    RETRACT(83, 84),
+    /**
+     * <code>RETRACT_RESPONSE = 85;</code>
+     */
+    RETRACT_RESPONSE(84, 85),
+    /**
+     * <code>CREATE_REGION = 86;</code>
+     */
+    CREATE_REGION(85, 86),
+    /**
+     * <code>COMMIT_REGION_MODIFICATIONS = 87;</code>
+     */
+    COMMIT_REGION_MODIFICATIONS(86, 87),
+    /**
+     * <code>DELETE_REGION = 88;</code>
+     */
+    DELETE_REGION(87, 88),
+    /**
+     * <code>ASSOCIATE_REGIONS_FOR_UPDATES = 89;</code>
+     */
+    ASSOCIATE_REGIONS_FOR_UPDATES(88, 89),
+    /**
+     * <code>ASSOCIATE_REGIONS_FOR_UPDATES_RESPONSE = 90;</code>
+     */
+    ASSOCIATE_REGIONS_FOR_UPDATES_RESPONSE(89, 90),
+    /**
+     * <code>UNASSOCIATE_REGIONS_FOR_UPDATES = 91;</code>
+     */
+    UNASSOCIATE_REGIONS_FOR_UPDATES(90, 91),
+    /**
+     * <code>UNASSOCIATE_REGIONS_FOR_UPDATES_RESPONSE = 92;</code>
+     */
+    UNASSOCIATE_REGIONS_FOR_UPDATES_RESPONSE(91, 92),
+    /**
+     * <code>SUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_WITH_REGIONS = 93;</code>
+     */
+    SUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_WITH_REGIONS(92, 93),
+    /**
+     * <code>UNSUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_WITH_REGIONS = 94;</code>
+     */
+    UNSUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_WITH_REGIONS(93, 94),
+    /**
+     * <code>SUBSCRIBE_INTERACTION_CLASS_WITH_REGIONS = 95;</code>
+     */
+    SUBSCRIBE_INTERACTION_CLASS_WITH_REGIONS(94, 95),
+    /**
+     * <code>UNSUBSCRIBE_INTERACTION_CLASS_WITH_REGIONS = 96;</code>
+     */
+    UNSUBSCRIBE_INTERACTION_CLASS_WITH_REGIONS(95, 96),
+    /**
+     * <code>REPORT_FEDERATION_EXECUTIONS = 97;</code>
+     */
+    REPORT_FEDERATION_EXECUTIONS(96, 97),
+    /**
+     * <code>SYNCHRONIZATION_POINT_REGISTRATION_SUCCEEDED = 98;</code>
+     */
+    SYNCHRONIZATION_POINT_REGISTRATION_SUCCEEDED(97, 98),
+    /**
+     * <code>SYNCHRONIZATION_POINT_REGISTRATION_FAILED = 99;</code>
+     */
+    SYNCHRONIZATION_POINT_REGISTRATION_FAILED(98, 99),
+    /**
+     * <code>ANNOUNCE_SYNCHRONIZATION_POINT = 100;</code>
+     */
+    ANNOUNCE_SYNCHRONIZATION_POINT(99, 100),
+    /**
+     * <code>FEDERATION_SYNCHRONIZED = 101;</code>
+     */
+    FEDERATION_SYNCHRONIZED(100, 101),
+    /**
+     * <code>INITIATE_FEDERATE_SAVE = 102;</code>
+     */
+    INITIATE_FEDERATE_SAVE(101, 102),
+    /**
+     * <code>FEDERATION_SAVED = 103;</code>
+     */
+    FEDERATION_SAVED(102, 103),
+    /**
+     * <code>FEDERATION_NOT_SAVED = 104;</code>
+     */
+    FEDERATION_NOT_SAVED(103, 104),
+    /**
+     * <code>FEDERATION_SAVE_STATUS_RESPONSE = 105;</code>
+     */
+    FEDERATION_SAVE_STATUS_RESPONSE(104, 105),
+    /**
+     * <code>REQUEST_FEDERATION_RESTORE_SUCCEEDED = 106;</code>
+     */
+    REQUEST_FEDERATION_RESTORE_SUCCEEDED(105, 106),
+    /**
+     * <code>REQUEST_FEDERATION_RESTORE_FAILED = 107;</code>
+     */
+    REQUEST_FEDERATION_RESTORE_FAILED(106, 107),
+    /**
+     * <code>FEDERATION_RESTORE_BEGUN = 108;</code>
+     */
+    FEDERATION_RESTORE_BEGUN(107, 108),
+    /**
+     * <code>INITIATE_FEDERATE_RESTORE = 109;</code>
+     */
+    INITIATE_FEDERATE_RESTORE(108, 109),
+    /**
+     * <code>FEDERATION_RESTORED = 110;</code>
+     */
+    FEDERATION_RESTORED(109, 110),
+    /**
+     * <code>FEDERATION_NOT_RESTORED = 111;</code>
+     */
+    FEDERATION_NOT_RESTORED(110, 111),
+    /**
+     * <code>FEDERATION_RESTORE_STATUS_RESPONSE = 112;</code>
+     */
+    FEDERATION_RESTORE_STATUS_RESPONSE(111, 112),
+    /**
+     * <code>START_REGISTRATION_FOR_OBJECT_CLASS = 113;</code>
+     */
+    START_REGISTRATION_FOR_OBJECT_CLASS(112, 113),
+    /**
+     * <code>STOP_REGISTRATION_FOR_OBJECT_CLASS = 114;</code>
+     */
+    STOP_REGISTRATION_FOR_OBJECT_CLASS(113, 114),
+    /**
+     * <code>TURN_INTERACTIONS_ON = 115;</code>
+     */
+    TURN_INTERACTIONS_ON(114, 115),
+    /**
+     * <code>TURN_INTERACTIONS_OFF = 116;</code>
+     */
+    TURN_INTERACTIONS_OFF(115, 116),
+    /**
+     * <code>OBJECT_INSTANCE_NAME_RESERVATION_SUCCEEDED = 117;</code>
+     */
+    OBJECT_INSTANCE_NAME_RESERVATION_SUCCEEDED(116, 117),
+    /**
+     * <code>OBJECT_INSTANCE_NAME_RESERVATION_FAILED = 118;</code>
+     */
+    OBJECT_INSTANCE_NAME_RESERVATION_FAILED(117, 118),
+    /**
+     * <code>DISCOVER_OBJECT_INSTANCE = 119;</code>
+     */
+    DISCOVER_OBJECT_INSTANCE(118, 119),
+    /**
+     * <code>REFLECT_ATTRIBUTE_VALUES = 120;</code>
+     */
+    REFLECT_ATTRIBUTE_VALUES(119, 120),
+    /**
+     * <code>REMOVE_OBJECT_INSTANCE = 121;</code>
+     */
+    REMOVE_OBJECT_INSTANCE(120, 121),
+    /**
+     * <code>ATTRIBUTES_IN_SCOPE = 122;</code>
+     */
+    ATTRIBUTES_IN_SCOPE(121, 122),
+    /**
+     * <code>ATTRIBUTES_OUT_OF_SCOPE = 123;</code>
+     */
+    ATTRIBUTES_OUT_OF_SCOPE(122, 123),
+    /**
+     * <code>PROVIDE_ATTRIBUTE_VALUE_UPDATE = 124;</code>
+     */
+    PROVIDE_ATTRIBUTE_VALUE_UPDATE(123, 124),
+    /**
+     * <code>TURN_UPDATES_ON_FOR_OBJECT_INSTANCE = 125;</code>
+     */
+    TURN_UPDATES_ON_FOR_OBJECT_INSTANCE(124, 125),
+    /**
+     * <code>TURN_UPDATES_OFF_FOR_OBJECT_INSTANCE = 126;</code>
+     */
+    TURN_UPDATES_OFF_FOR_OBJECT_INSTANCE(125, 126),
+    /**
+     * <code>RECEIVE_INTERACTION = 127;</code>
+     */
+    RECEIVE_INTERACTION(126, 127),
+    /**
+     * <code>REQUEST_ATTRIBUTE_OWNERSHIP_ASSUMPTION = 128;</code>
+     */
+    REQUEST_ATTRIBUTE_OWNERSHIP_ASSUMPTION(127, 128),
+    /**
+     * <code>REQUEST_DIVESTITURE_CONFIRMATION = 129;</code>
+     */
+    REQUEST_DIVESTITURE_CONFIRMATION(128, 129),
+    /**
+     * <code>ATTRIBUTE_OWNERSHIP_ACQUISITION_NOTIFICATION = 130;</code>
+     */
+    ATTRIBUTE_OWNERSHIP_ACQUISITION_NOTIFICATION(129, 130),
+    /**
+     * <code>ATTRIBUTE_OWNERSHIP_UNAVAILABLE = 131;</code>
+     */
+    ATTRIBUTE_OWNERSHIP_UNAVAILABLE(130, 131),
+    /**
+     * <code>REQUEST_ATTRIBUTE_OWNERSHIP_RELEASE = 132;</code>
+     */
+    REQUEST_ATTRIBUTE_OWNERSHIP_RELEASE(131, 132),
+    /**
+     * <code>CONFIRM_ATTRIBUTE_OWNERSHIP_ACQUISITION_CANCELLATION = 133;</code>
+     */
+    CONFIRM_ATTRIBUTE_OWNERSHIP_ACQUISITION_CANCELLATION(132, 133),
+    /**
+     * <code>INFORM_ATTRIBUTE_OWNERSHIP = 134;</code>
+     */
+    INFORM_ATTRIBUTE_OWNERSHIP(133, 134),
+    /**
+     * <code>ATTRIBUTE_IS_NOT_OWNED = 135;</code>
+     */
+    ATTRIBUTE_IS_NOT_OWNED(134, 135),
+    /**
+     * <code>ATTRIBUTE_IS_OWNED_BY_RTI = 136;</code>
+     */
+    ATTRIBUTE_IS_OWNED_BY_RTI(135, 136),
+    /**
+     * <code>TIME_REGULATION_ENABLED = 137;</code>
+     */
+    TIME_REGULATION_ENABLED(136, 137),
+    /**
+     * <code>TIME_CONSTRAINED_ENABLED = 138;</code>
+     */
+    TIME_CONSTRAINED_ENABLED(137, 138),
+    /**
+     * <code>TIME_ADVANCE_GRANT = 139;</code>
+     */
+    TIME_ADVANCE_GRANT(138, 139),
+    /**
+     * <code>REQUEST_RETRACTION = 140;</code>
+     */
+    REQUEST_RETRACTION(139, 140),
+    /**
+     * <code>FEDERATE_STATE_FRAME = 141;</code>
+     */
+    FEDERATE_STATE_FRAME(140, 141),
+    ;
+
+    /**
+     * <code>FDD_UPDATED = 1;</code>
+     */
+    public static final int FDD_UPDATED_VALUE = 1;
+    /**
+     * <code>CREATE_FEDERATION_EXECUTION = 2;</code>
+     */
+    public static final int CREATE_FEDERATION_EXECUTION_VALUE = 2;
+    /**
+     * <code>CREATE_FEDERATION_EXECUTION_RESPONSE = 3;</code>
+     */
+    public static final int CREATE_FEDERATION_EXECUTION_RESPONSE_VALUE = 3;
+    /**
+     * <code>DESTROY_FEDERATION_EXECUTION = 4;</code>
+     */
+    public static final int DESTROY_FEDERATION_EXECUTION_VALUE = 4;
+    /**
+     * <code>DESTROY_FEDERATION_EXECUTION_RESPONSE = 5;</code>
+     */
+    public static final int DESTROY_FEDERATION_EXECUTION_RESPONSE_VALUE = 5;
+    /**
+     * <code>LIST_FEDERATION_EXECUTIONS = 6;</code>
+     */
+    public static final int LIST_FEDERATION_EXECUTIONS_VALUE = 6;
+    /**
+     * <code>JOIN_FEDERATION_EXECUTION = 7;</code>
+     */
+    public static final int JOIN_FEDERATION_EXECUTION_VALUE = 7;
+    /**
+     * <code>JOIN_FEDERATION_EXECUTION_RESPONSE = 8;</code>
+     */
+    public static final int JOIN_FEDERATION_EXECUTION_RESPONSE_VALUE = 8;
+    /**
+     * <code>RESIGN_FEDERATION_EXECUTION = 9;</code>
+     */
+    public static final int RESIGN_FEDERATION_EXECUTION_VALUE = 9;
+    /**
+     * <code>RESIGNED_FEDERATION_EXECUTION = 10;</code>
+     */
+    public static final int RESIGNED_FEDERATION_EXECUTION_VALUE = 10;
+    /**
+     * <code>REGISTER_FEDERATION_SYNCHRONIZATION_POINT = 11;</code>
+     */
+    public static final int REGISTER_FEDERATION_SYNCHRONIZATION_POINT_VALUE = 11;
+    /**
+     * <code>SYNCHRONIZATION_POINT_ACHIEVED = 12;</code>
+     */
+    public static final int SYNCHRONIZATION_POINT_ACHIEVED_VALUE = 12;
+    /**
+     * <code>REQUEST_FEDERATION_SAVE = 13;</code>
+     */
+    public static final int REQUEST_FEDERATION_SAVE_VALUE = 13;
+    /**
+     * <code>REQUEST_FEDERATION_SAVE_RESPONSE = 14;</code>
+     */
+    public static final int REQUEST_FEDERATION_SAVE_RESPONSE_VALUE = 14;
+    /**
+     * <code>FEDERATE_SAVE_BEGUN = 15;</code>
+     */
+    public static final int FEDERATE_SAVE_BEGUN_VALUE = 15;
+    /**
+     * <code>FEDERATE_SAVE_COMPLETE = 16;</code>
+     */
+    public static final int FEDERATE_SAVE_COMPLETE_VALUE = 16;
+    /**
+     * <code>FEDERATE_SAVE_NOT_COMPLETE = 17;</code>
+     */
+    public static final int FEDERATE_SAVE_NOT_COMPLETE_VALUE = 17;
+    /**
+     * <code>ABORT_FEDERATION_SAVE = 18;</code>
+     */
+    public static final int ABORT_FEDERATION_SAVE_VALUE = 18;
+    /**
+     * <code>ABORT_FEDERATION_SAVE_RESPONSE = 19;</code>
+     */
+    public static final int ABORT_FEDERATION_SAVE_RESPONSE_VALUE = 19;
+    /**
+     * <code>QUERY_FEDERATION_SAVE_STATUS = 20;</code>
+     */
+    public static final int QUERY_FEDERATION_SAVE_STATUS_VALUE = 20;
+    /**
+     * <code>REQUEST_FEDERATION_RESTORE = 21;</code>
+     */
+    public static final int REQUEST_FEDERATION_RESTORE_VALUE = 21;
+    /**
+     * <code>REQUEST_FEDERATION_RESTORE_RESPONSE = 22;</code>
+     */
+    public static final int REQUEST_FEDERATION_RESTORE_RESPONSE_VALUE = 22;
+    /**
+     * <code>FEDERATE_RESTORE_COMPLETE = 23;</code>
+     */
+    public static final int FEDERATE_RESTORE_COMPLETE_VALUE = 23;
+    /**
+     * <code>FEDERATE_RESTORE_NOT_COMPLETE = 24;</code>
+     */
+    public static final int FEDERATE_RESTORE_NOT_COMPLETE_VALUE = 24;
+    /**
+     * <code>ABORT_FEDERATION_RESTORE = 25;</code>
+     */
+    public static final int ABORT_FEDERATION_RESTORE_VALUE = 25;
+    /**
+     * <code>ABORT_FEDERATION_RESTORE_RESPONSE = 26;</code>
+     */
+    public static final int ABORT_FEDERATION_RESTORE_RESPONSE_VALUE = 26;
+    /**
+     * <code>QUERY_FEDERATION_RESTORE_STATUS = 27;</code>
+     */
+    public static final int QUERY_FEDERATION_RESTORE_STATUS_VALUE = 27;
+    /**
+     * <code>PUBLISH_OBJECT_CLASS_ATTRIBUTES = 28;</code>
+     */
+    public static final int PUBLISH_OBJECT_CLASS_ATTRIBUTES_VALUE = 28;
+    /**
+     * <code>UNPUBLISH_OBJECT_CLASS = 29;</code>
+     */
+    public static final int UNPUBLISH_OBJECT_CLASS_VALUE = 29;
+    /**
+     * <code>UNPUBLISH_OBJECT_CLASS_ATTRIBUTES = 30;</code>
+     */
+    public static final int UNPUBLISH_OBJECT_CLASS_ATTRIBUTES_VALUE = 30;
+    /**
+     * <code>PUBLISH_INTERACTION_CLASS = 31;</code>
+     */
+    public static final int PUBLISH_INTERACTION_CLASS_VALUE = 31;
+    /**
+     * <code>UNPUBLISH_INTERACTION_CLASS = 32;</code>
+     */
+    public static final int UNPUBLISH_INTERACTION_CLASS_VALUE = 32;
+    /**
+     * <code>SUBSCRIBE_OBJECT_CLASS_ATTRIBUTES = 33;</code>
+     */
+    public static final int SUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_VALUE = 33;
+    /**
+     * <code>UNSUBSCRIBE_OBJECT_CLASS_ATTRIBUTES = 34;</code>
+     */
+    public static final int UNSUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_VALUE = 34;
+    /**
+     * <code>SUBSCRIBE_INTERACTION_CLASS = 35;</code>
+     */
+    public static final int SUBSCRIBE_INTERACTION_CLASS_VALUE = 35;
+    /**
+     * <code>UNSUBSCRIBE_INTERACTION_CLASS = 36;</code>
+     */
+    public static final int UNSUBSCRIBE_INTERACTION_CLASS_VALUE = 36;
+    /**
+     * <code>RESERVE_OBJECT_INSTANCE_NAME = 37;</code>
+     */
+    public static final int RESERVE_OBJECT_INSTANCE_NAME_VALUE = 37;
+    /**
+     * <code>RELEASE_OBJECT_INSTANCE_NAME = 38;</code>
+     */
+    public static final int RELEASE_OBJECT_INSTANCE_NAME_VALUE = 38;
+    /**
+     * <code>RESERVE_MULTIPLE_OBJECT_INSTANCE_NAME = 39;</code>
+     */
+    public static final int RESERVE_MULTIPLE_OBJECT_INSTANCE_NAME_VALUE = 39;
+    /**
+     * <code>MULTIPLE_OBJECT_INSTANCE_NAME_RESERVATION_SUCCEEDED = 40;</code>
+     */
+    public static final int MULTIPLE_OBJECT_INSTANCE_NAME_RESERVATION_SUCCEEDED_VALUE = 40;
+    /**
+     * <code>MULTIPLE_OBJECT_INSTANCE_NAME_RESERVATION_FAILED = 41;</code>
+     */
+    public static final int MULTIPLE_OBJECT_INSTANCE_NAME_RESERVATION_FAILED_VALUE = 41;
+    /**
+     * <code>RELEASE_MULTIPLE_OBJECT_INSTANCE_NAME = 42;</code>
+     */
+    public static final int RELEASE_MULTIPLE_OBJECT_INSTANCE_NAME_VALUE = 42;
+    /**
+     * <code>REGISTER_OBJECT_INSTANCE = 43;</code>
+     */
+    public static final int REGISTER_OBJECT_INSTANCE_VALUE = 43;
+    /**
+     * <code>UPDATE_ATTRIBUTE_VALUES = 44;</code>
+     */
+    public static final int UPDATE_ATTRIBUTE_VALUES_VALUE = 44;
+    /**
+     * <code>SEND_INTERACTION = 45;</code>
+     */
+    public static final int SEND_INTERACTION_VALUE = 45;
+    /**
+     * <code>DELETE_OBJECT_INSTANCE = 46;</code>
+     */
+    public static final int DELETE_OBJECT_INSTANCE_VALUE = 46;
+    /**
+     * <code>LOCAL_DELETE_OBJECT_INSTANCE = 47;</code>
+     */
+    public static final int LOCAL_DELETE_OBJECT_INSTANCE_VALUE = 47;
+    /**
+     * <code>REQUEST_OBJECT_INSTANCE_ATTRIBUTE_VALUE_UPDATE = 48;</code>
+     */
+    public static final int REQUEST_OBJECT_INSTANCE_ATTRIBUTE_VALUE_UPDATE_VALUE = 48;
+    /**
+     * <code>REQUEST_OBJECT_CLASS_ATTRIBUTE_VALUE_UPDATE = 49;</code>
+     */
+    public static final int REQUEST_OBJECT_CLASS_ATTRIBUTE_VALUE_UPDATE_VALUE = 49;
+    /**
+     * <code>REQUEST_OBJECT_CLASS_ATTRIBUTE_VALUE_UPDATE_WITH_REGIONS = 50;</code>
+     */
+    public static final int REQUEST_OBJECT_CLASS_ATTRIBUTE_VALUE_UPDATE_WITH_REGIONS_VALUE = 50;
+    /**
+     * <code>SET_AUTOMATIC_RESIGN_DIRECTIVE = 51;</code>
+     */
+    public static final int SET_AUTOMATIC_RESIGN_DIRECTIVE_VALUE = 51;
+    /**
+     * <code>GET_FEDERATE_HANDLE = 52;</code>
+     */
+    public static final int GET_FEDERATE_HANDLE_VALUE = 52;
+    /**
+     * <code>GET_FEDERATE_HANDLE_RESPONSE = 53;</code>
+     */
+    public static final int GET_FEDERATE_HANDLE_RESPONSE_VALUE = 53;
+    /**
+     * <code>GET_FEDERATE_NAME = 54;</code>
+     */
+    public static final int GET_FEDERATE_NAME_VALUE = 54;
+    /**
+     * <code>GET_FEDERATE_NAME_RESPONSE = 55;</code>
+     */
+    public static final int GET_FEDERATE_NAME_RESPONSE_VALUE = 55;
+    /**
+     * <code>GET_UPDATE_RATE_VALUE_FOR_ATTRIBUTE = 56;</code>
+     */
+    public static final int GET_UPDATE_RATE_VALUE_FOR_ATTRIBUTE_VALUE = 56;
+    /**
+     * <code>GET_UPDATE_RATE_VALUE_FOR_ATTRIBUTE_RESPONSE = 57;</code>
+     */
+    public static final int GET_UPDATE_RATE_VALUE_FOR_ATTRIBUTE_RESPONSE_VALUE = 57;
+    /**
+     * <code>QUERY_INTERACTION_TRANSPORTATION_TYPE = 58;</code>
+     */
+    public static final int QUERY_INTERACTION_TRANSPORTATION_TYPE_VALUE = 58;
+    /**
+     * <code>REPORT_INTERACTION_TRANSPORTATION_TYPE = 59;</code>
+     */
+    public static final int REPORT_INTERACTION_TRANSPORTATION_TYPE_VALUE = 59;
+    /**
+     * <code>UNCONDITIONAL_ATTRIBUTE_OWNERSHIP_DIVESTITURE = 60;</code>
+     */
+    public static final int UNCONDITIONAL_ATTRIBUTE_OWNERSHIP_DIVESTITURE_VALUE = 60;
+    /**
+     * <code>NEGOTIATED_ATTRIBUTE_OWNERSHIP_DIVESTITURE = 61;</code>
+     */
+    public static final int NEGOTIATED_ATTRIBUTE_OWNERSHIP_DIVESTITURE_VALUE = 61;
+    /**
+     * <code>CONFIRM_DIVESTITURE = 62;</code>
+     */
+    public static final int CONFIRM_DIVESTITURE_VALUE = 62;
+    /**
+     * <code>ATTRIBUTE_OWNERSHIP_ACQUISITION = 63;</code>
+     */
+    public static final int ATTRIBUTE_OWNERSHIP_ACQUISITION_VALUE = 63;
+    /**
+     * <code>ATTRIBUTE_OWNERSHIP_ACQUISITION_IF_AVAILABLE = 64;</code>
+     */
+    public static final int ATTRIBUTE_OWNERSHIP_ACQUISITION_IF_AVAILABLE_VALUE = 64;
+    /**
+     * <code>ATTRIBUTE_OWNERSHIP_DIVESTITURE_IF_WANTED = 65;</code>
+     */
+    public static final int ATTRIBUTE_OWNERSHIP_DIVESTITURE_IF_WANTED_VALUE = 65;
+    /**
+     * <code>ATTRIBUTE_OWNERSHIP_DIVESTITURE_IF_WANTED_RESPONSE = 66;</code>
+     */
+    public static final int ATTRIBUTE_OWNERSHIP_DIVESTITURE_IF_WANTED_RESPONSE_VALUE = 66;
+    /**
+     * <code>CANCEL_NEGOTIATED_ATTRIBUTE_OWNERSHIP_DIVESTITURE = 67;</code>
+     */
+    public static final int CANCEL_NEGOTIATED_ATTRIBUTE_OWNERSHIP_DIVESTITURE_VALUE = 67;
+    /**
+     * <code>CANCEL_ATTRIBUTE_OWNERSHIP_ACQUISITION = 68;</code>
+     */
+    public static final int CANCEL_ATTRIBUTE_OWNERSHIP_ACQUISITION_VALUE = 68;
+    /**
+     * <code>QUERY_ATTRIBUTE_OWNERSHIP = 69;</code>
+     */
+    public static final int QUERY_ATTRIBUTE_OWNERSHIP_VALUE = 69;
+    /**
+     * <code>ENABLE_TIME_REGULATION = 70;</code>
+     */
+    public static final int ENABLE_TIME_REGULATION_VALUE = 70;
+    /**
+     * <code>DISABLE_TIME_REGULATION = 71;</code>
+     */
+    public static final int DISABLE_TIME_REGULATION_VALUE = 71;
+    /**
+     * <code>ENABLE_TIME_CONSTRAINED = 72;</code>
+     */
+    public static final int ENABLE_TIME_CONSTRAINED_VALUE = 72;
+    /**
+     * <code>DISABLE_TIME_CONSTRAINED = 73;</code>
+     */
+    public static final int DISABLE_TIME_CONSTRAINED_VALUE = 73;
+    /**
+     * <code>TIME_ADVANCE_REQUEST = 74;</code>
+     */
+    public static final int TIME_ADVANCE_REQUEST_VALUE = 74;
+    /**
+     * <code>TIME_ADVANCE_REQUEST_AVAILABLE = 75;</code>
+     */
+    public static final int TIME_ADVANCE_REQUEST_AVAILABLE_VALUE = 75;
+    /**
+     * <code>NEXT_MESSAGE_REQUEST = 76;</code>
+     */
+    public static final int NEXT_MESSAGE_REQUEST_VALUE = 76;
+    /**
+     * <code>NEXT_MESSAGE_REQUEST_AVAILABLE = 77;</code>
+     */
+    public static final int NEXT_MESSAGE_REQUEST_AVAILABLE_VALUE = 77;
+    /**
+     * <code>FLUSH_QUEUE_REQUEST = 78;</code>
+     */
+    public static final int FLUSH_QUEUE_REQUEST_VALUE = 78;
+    /**
+     * <code>QUERY_GALT = 79;</code>
+     */
+    public static final int QUERY_GALT_VALUE = 79;
+    /**
+     * <code>QUERY_GALT_RESPONSE = 80;</code>
+     */
+    public static final int QUERY_GALT_RESPONSE_VALUE = 80;
+    /**
+     * <code>QUERY_LITS = 81;</code>
+     */
+    public static final int QUERY_LITS_VALUE = 81;
+    /**
+     * <code>QUERY_LITS_RESPONSE = 82;</code>
+     */
+    public static final int QUERY_LITS_RESPONSE_VALUE = 82;
+    /**
+     * <code>MODIFY_LOOKAHEAD = 83;</code>
+     */
+    public static final int MODIFY_LOOKAHEAD_VALUE = 83;
+    /**
+     * <code>RETRACT = 84;</code>
+     */
+    public static final int RETRACT_VALUE = 84;
+    /**
+     * <code>RETRACT_RESPONSE = 85;</code>
+     */
+    public static final int RETRACT_RESPONSE_VALUE = 85;
+    /**
+     * <code>CREATE_REGION = 86;</code>
+     */
+    public static final int CREATE_REGION_VALUE = 86;
+    /**
+     * <code>COMMIT_REGION_MODIFICATIONS = 87;</code>
+     */
+    public static final int COMMIT_REGION_MODIFICATIONS_VALUE = 87;
+    /**
+     * <code>DELETE_REGION = 88;</code>
+     */
+    public static final int DELETE_REGION_VALUE = 88;
+    /**
+     * <code>ASSOCIATE_REGIONS_FOR_UPDATES = 89;</code>
+     */
+    public static final int ASSOCIATE_REGIONS_FOR_UPDATES_VALUE = 89;
+    /**
+     * <code>ASSOCIATE_REGIONS_FOR_UPDATES_RESPONSE = 90;</code>
+     */
+    public static final int ASSOCIATE_REGIONS_FOR_UPDATES_RESPONSE_VALUE = 90;
+    /**
+     * <code>UNASSOCIATE_REGIONS_FOR_UPDATES = 91;</code>
+     */
+    public static final int UNASSOCIATE_REGIONS_FOR_UPDATES_VALUE = 91;
+    /**
+     * <code>UNASSOCIATE_REGIONS_FOR_UPDATES_RESPONSE = 92;</code>
+     */
+    public static final int UNASSOCIATE_REGIONS_FOR_UPDATES_RESPONSE_VALUE = 92;
+    /**
+     * <code>SUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_WITH_REGIONS = 93;</code>
+     */
+    public static final int SUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_WITH_REGIONS_VALUE = 93;
+    /**
+     * <code>UNSUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_WITH_REGIONS = 94;</code>
+     */
+    public static final int UNSUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_WITH_REGIONS_VALUE = 94;
+    /**
+     * <code>SUBSCRIBE_INTERACTION_CLASS_WITH_REGIONS = 95;</code>
+     */
+    public static final int SUBSCRIBE_INTERACTION_CLASS_WITH_REGIONS_VALUE = 95;
+    /**
+     * <code>UNSUBSCRIBE_INTERACTION_CLASS_WITH_REGIONS = 96;</code>
+     */
+    public static final int UNSUBSCRIBE_INTERACTION_CLASS_WITH_REGIONS_VALUE = 96;
+    /**
+     * <code>REPORT_FEDERATION_EXECUTIONS = 97;</code>
+     */
+    public static final int REPORT_FEDERATION_EXECUTIONS_VALUE = 97;
+    /**
+     * <code>SYNCHRONIZATION_POINT_REGISTRATION_SUCCEEDED = 98;</code>
+     */
+    public static final int SYNCHRONIZATION_POINT_REGISTRATION_SUCCEEDED_VALUE = 98;
+    /**
+     * <code>SYNCHRONIZATION_POINT_REGISTRATION_FAILED = 99;</code>
+     */
+    public static final int SYNCHRONIZATION_POINT_REGISTRATION_FAILED_VALUE = 99;
+    /**
+     * <code>ANNOUNCE_SYNCHRONIZATION_POINT = 100;</code>
+     */
+    public static final int ANNOUNCE_SYNCHRONIZATION_POINT_VALUE = 100;
+    /**
+     * <code>FEDERATION_SYNCHRONIZED = 101;</code>
+     */
+    public static final int FEDERATION_SYNCHRONIZED_VALUE = 101;
+    /**
+     * <code>INITIATE_FEDERATE_SAVE = 102;</code>
+     */
+    public static final int INITIATE_FEDERATE_SAVE_VALUE = 102;
+    /**
+     * <code>FEDERATION_SAVED = 103;</code>
+     */
+    public static final int FEDERATION_SAVED_VALUE = 103;
+    /**
+     * <code>FEDERATION_NOT_SAVED = 104;</code>
+     */
+    public static final int FEDERATION_NOT_SAVED_VALUE = 104;
+    /**
+     * <code>FEDERATION_SAVE_STATUS_RESPONSE = 105;</code>
+     */
+    public static final int FEDERATION_SAVE_STATUS_RESPONSE_VALUE = 105;
+    /**
+     * <code>REQUEST_FEDERATION_RESTORE_SUCCEEDED = 106;</code>
+     */
+    public static final int REQUEST_FEDERATION_RESTORE_SUCCEEDED_VALUE = 106;
+    /**
+     * <code>REQUEST_FEDERATION_RESTORE_FAILED = 107;</code>
+     */
+    public static final int REQUEST_FEDERATION_RESTORE_FAILED_VALUE = 107;
+    /**
+     * <code>FEDERATION_RESTORE_BEGUN = 108;</code>
+     */
+    public static final int FEDERATION_RESTORE_BEGUN_VALUE = 108;
+    /**
+     * <code>INITIATE_FEDERATE_RESTORE = 109;</code>
+     */
+    public static final int INITIATE_FEDERATE_RESTORE_VALUE = 109;
+    /**
+     * <code>FEDERATION_RESTORED = 110;</code>
+     */
+    public static final int FEDERATION_RESTORED_VALUE = 110;
+    /**
+     * <code>FEDERATION_NOT_RESTORED = 111;</code>
+     */
+    public static final int FEDERATION_NOT_RESTORED_VALUE = 111;
+    /**
+     * <code>FEDERATION_RESTORE_STATUS_RESPONSE = 112;</code>
+     */
+    public static final int FEDERATION_RESTORE_STATUS_RESPONSE_VALUE = 112;
+    /**
+     * <code>START_REGISTRATION_FOR_OBJECT_CLASS = 113;</code>
+     */
+    public static final int START_REGISTRATION_FOR_OBJECT_CLASS_VALUE = 113;
+    /**
+     * <code>STOP_REGISTRATION_FOR_OBJECT_CLASS = 114;</code>
+     */
+    public static final int STOP_REGISTRATION_FOR_OBJECT_CLASS_VALUE = 114;
+    /**
+     * <code>TURN_INTERACTIONS_ON = 115;</code>
+     */
+    public static final int TURN_INTERACTIONS_ON_VALUE = 115;
+    /**
+     * <code>TURN_INTERACTIONS_OFF = 116;</code>
+     */
+    public static final int TURN_INTERACTIONS_OFF_VALUE = 116;
+    /**
+     * <code>OBJECT_INSTANCE_NAME_RESERVATION_SUCCEEDED = 117;</code>
+     */
+    public static final int OBJECT_INSTANCE_NAME_RESERVATION_SUCCEEDED_VALUE = 117;
+    /**
+     * <code>OBJECT_INSTANCE_NAME_RESERVATION_FAILED = 118;</code>
+     */
+    public static final int OBJECT_INSTANCE_NAME_RESERVATION_FAILED_VALUE = 118;
+    /**
+     * <code>DISCOVER_OBJECT_INSTANCE = 119;</code>
+     */
+    public static final int DISCOVER_OBJECT_INSTANCE_VALUE = 119;
+    /**
+     * <code>REFLECT_ATTRIBUTE_VALUES = 120;</code>
+     */
+    public static final int REFLECT_ATTRIBUTE_VALUES_VALUE = 120;
+    /**
+     * <code>REMOVE_OBJECT_INSTANCE = 121;</code>
+     */
+    public static final int REMOVE_OBJECT_INSTANCE_VALUE = 121;
+    /**
+     * <code>ATTRIBUTES_IN_SCOPE = 122;</code>
+     */
+    public static final int ATTRIBUTES_IN_SCOPE_VALUE = 122;
+    /**
+     * <code>ATTRIBUTES_OUT_OF_SCOPE = 123;</code>
+     */
+    public static final int ATTRIBUTES_OUT_OF_SCOPE_VALUE = 123;
+    /**
+     * <code>PROVIDE_ATTRIBUTE_VALUE_UPDATE = 124;</code>
+     */
+    public static final int PROVIDE_ATTRIBUTE_VALUE_UPDATE_VALUE = 124;
+    /**
+     * <code>TURN_UPDATES_ON_FOR_OBJECT_INSTANCE = 125;</code>
+     */
+    public static final int TURN_UPDATES_ON_FOR_OBJECT_INSTANCE_VALUE = 125;
+    /**
+     * <code>TURN_UPDATES_OFF_FOR_OBJECT_INSTANCE = 126;</code>
+     */
+    public static final int TURN_UPDATES_OFF_FOR_OBJECT_INSTANCE_VALUE = 126;
+    /**
+     * <code>RECEIVE_INTERACTION = 127;</code>
+     */
+    public static final int RECEIVE_INTERACTION_VALUE = 127;
+    /**
+     * <code>REQUEST_ATTRIBUTE_OWNERSHIP_ASSUMPTION = 128;</code>
+     */
+    public static final int REQUEST_ATTRIBUTE_OWNERSHIP_ASSUMPTION_VALUE = 128;
+    /**
+     * <code>REQUEST_DIVESTITURE_CONFIRMATION = 129;</code>
+     */
+    public static final int REQUEST_DIVESTITURE_CONFIRMATION_VALUE = 129;
+    /**
+     * <code>ATTRIBUTE_OWNERSHIP_ACQUISITION_NOTIFICATION = 130;</code>
+     */
+    public static final int ATTRIBUTE_OWNERSHIP_ACQUISITION_NOTIFICATION_VALUE = 130;
+    /**
+     * <code>ATTRIBUTE_OWNERSHIP_UNAVAILABLE = 131;</code>
+     */
+    public static final int ATTRIBUTE_OWNERSHIP_UNAVAILABLE_VALUE = 131;
+    /**
+     * <code>REQUEST_ATTRIBUTE_OWNERSHIP_RELEASE = 132;</code>
+     */
+    public static final int REQUEST_ATTRIBUTE_OWNERSHIP_RELEASE_VALUE = 132;
+    /**
+     * <code>CONFIRM_ATTRIBUTE_OWNERSHIP_ACQUISITION_CANCELLATION = 133;</code>
+     */
+    public static final int CONFIRM_ATTRIBUTE_OWNERSHIP_ACQUISITION_CANCELLATION_VALUE = 133;
+    /**
+     * <code>INFORM_ATTRIBUTE_OWNERSHIP = 134;</code>
+     */
+    public static final int INFORM_ATTRIBUTE_OWNERSHIP_VALUE = 134;
+    /**
+     * <code>ATTRIBUTE_IS_NOT_OWNED = 135;</code>
+     */
+    public static final int ATTRIBUTE_IS_NOT_OWNED_VALUE = 135;
+    /**
+     * <code>ATTRIBUTE_IS_OWNED_BY_RTI = 136;</code>
+     */
+    public static final int ATTRIBUTE_IS_OWNED_BY_RTI_VALUE = 136;
+    /**
+     * <code>TIME_REGULATION_ENABLED = 137;</code>
+     */
+    public static final int TIME_REGULATION_ENABLED_VALUE = 137;
+    /**
+     * <code>TIME_CONSTRAINED_ENABLED = 138;</code>
+     */
+    public static final int TIME_CONSTRAINED_ENABLED_VALUE = 138;
+    /**
+     * <code>TIME_ADVANCE_GRANT = 139;</code>
+     */
+    public static final int TIME_ADVANCE_GRANT_VALUE = 139;
+    /**
+     * <code>REQUEST_RETRACTION = 140;</code>
+     */
+    public static final int REQUEST_RETRACTION_VALUE = 140;
+    /**
+     * <code>FEDERATE_STATE_FRAME = 141;</code>
+     */
+    public static final int FEDERATE_STATE_FRAME_VALUE = 141;
+
+
+    public final int getNumber() { return value; }
+
+    public static MessageType valueOf(int value) {
+      switch (value) {
+        case 1: return FDD_UPDATED;
+        case 2: return CREATE_FEDERATION_EXECUTION;
+        case 3: return CREATE_FEDERATION_EXECUTION_RESPONSE;
+        case 4: return DESTROY_FEDERATION_EXECUTION;
+        case 5: return DESTROY_FEDERATION_EXECUTION_RESPONSE;
+        case 6: return LIST_FEDERATION_EXECUTIONS;
+        case 7: return JOIN_FEDERATION_EXECUTION;
+        case 8: return JOIN_FEDERATION_EXECUTION_RESPONSE;
+        case 9: return RESIGN_FEDERATION_EXECUTION;
+        case 10: return RESIGNED_FEDERATION_EXECUTION;
+        case 11: return REGISTER_FEDERATION_SYNCHRONIZATION_POINT;
+        case 12: return SYNCHRONIZATION_POINT_ACHIEVED;
+        case 13: return REQUEST_FEDERATION_SAVE;
+        case 14: return REQUEST_FEDERATION_SAVE_RESPONSE;
+        case 15: return FEDERATE_SAVE_BEGUN;
+        case 16: return FEDERATE_SAVE_COMPLETE;
+        case 17: return FEDERATE_SAVE_NOT_COMPLETE;
+        case 18: return ABORT_FEDERATION_SAVE;
+        case 19: return ABORT_FEDERATION_SAVE_RESPONSE;
+        case 20: return QUERY_FEDERATION_SAVE_STATUS;
+        case 21: return REQUEST_FEDERATION_RESTORE;
+        case 22: return REQUEST_FEDERATION_RESTORE_RESPONSE;
+        case 23: return FEDERATE_RESTORE_COMPLETE;
+        case 24: return FEDERATE_RESTORE_NOT_COMPLETE;
+        case 25: return ABORT_FEDERATION_RESTORE;
+        case 26: return ABORT_FEDERATION_RESTORE_RESPONSE;
+        case 27: return QUERY_FEDERATION_RESTORE_STATUS;
+        case 28: return PUBLISH_OBJECT_CLASS_ATTRIBUTES;
+        case 29: return UNPUBLISH_OBJECT_CLASS;
+        case 30: return UNPUBLISH_OBJECT_CLASS_ATTRIBUTES;
+        case 31: return PUBLISH_INTERACTION_CLASS;
+        case 32: return UNPUBLISH_INTERACTION_CLASS;
+        case 33: return SUBSCRIBE_OBJECT_CLASS_ATTRIBUTES;
+        case 34: return UNSUBSCRIBE_OBJECT_CLASS_ATTRIBUTES;
+        case 35: return SUBSCRIBE_INTERACTION_CLASS;
+        case 36: return UNSUBSCRIBE_INTERACTION_CLASS;
+        case 37: return RESERVE_OBJECT_INSTANCE_NAME;
+        case 38: return RELEASE_OBJECT_INSTANCE_NAME;
+        case 39: return RESERVE_MULTIPLE_OBJECT_INSTANCE_NAME;
+        case 40: return MULTIPLE_OBJECT_INSTANCE_NAME_RESERVATION_SUCCEEDED;
+        case 41: return MULTIPLE_OBJECT_INSTANCE_NAME_RESERVATION_FAILED;
+        case 42: return RELEASE_MULTIPLE_OBJECT_INSTANCE_NAME;
+        case 43: return REGISTER_OBJECT_INSTANCE;
+        case 44: return UPDATE_ATTRIBUTE_VALUES;
+        case 45: return SEND_INTERACTION;
+        case 46: return DELETE_OBJECT_INSTANCE;
+        case 47: return LOCAL_DELETE_OBJECT_INSTANCE;
+        case 48: return REQUEST_OBJECT_INSTANCE_ATTRIBUTE_VALUE_UPDATE;
+        case 49: return REQUEST_OBJECT_CLASS_ATTRIBUTE_VALUE_UPDATE;
+        case 50: return REQUEST_OBJECT_CLASS_ATTRIBUTE_VALUE_UPDATE_WITH_REGIONS;
+        case 51: return SET_AUTOMATIC_RESIGN_DIRECTIVE;
+        case 52: return GET_FEDERATE_HANDLE;
+        case 53: return GET_FEDERATE_HANDLE_RESPONSE;
+        case 54: return GET_FEDERATE_NAME;
+        case 55: return GET_FEDERATE_NAME_RESPONSE;
+        case 56: return GET_UPDATE_RATE_VALUE_FOR_ATTRIBUTE;
+        case 57: return GET_UPDATE_RATE_VALUE_FOR_ATTRIBUTE_RESPONSE;
+        case 58: return QUERY_INTERACTION_TRANSPORTATION_TYPE;
+        case 59: return REPORT_INTERACTION_TRANSPORTATION_TYPE;
+        case 60: return UNCONDITIONAL_ATTRIBUTE_OWNERSHIP_DIVESTITURE;
+        case 61: return NEGOTIATED_ATTRIBUTE_OWNERSHIP_DIVESTITURE;
+        case 62: return CONFIRM_DIVESTITURE;
+        case 63: return ATTRIBUTE_OWNERSHIP_ACQUISITION;
+        case 64: return ATTRIBUTE_OWNERSHIP_ACQUISITION_IF_AVAILABLE;
+        case 65: return ATTRIBUTE_OWNERSHIP_DIVESTITURE_IF_WANTED;
+        case 66: return ATTRIBUTE_OWNERSHIP_DIVESTITURE_IF_WANTED_RESPONSE;
+        case 67: return CANCEL_NEGOTIATED_ATTRIBUTE_OWNERSHIP_DIVESTITURE;
+        case 68: return CANCEL_ATTRIBUTE_OWNERSHIP_ACQUISITION;
+        case 69: return QUERY_ATTRIBUTE_OWNERSHIP;
+        case 70: return ENABLE_TIME_REGULATION;
+        case 71: return DISABLE_TIME_REGULATION;
+        case 72: return ENABLE_TIME_CONSTRAINED;
+        case 73: return DISABLE_TIME_CONSTRAINED;
+        case 74: return TIME_ADVANCE_REQUEST;
+        case 75: return TIME_ADVANCE_REQUEST_AVAILABLE;
+        case 76: return NEXT_MESSAGE_REQUEST;
+        case 77: return NEXT_MESSAGE_REQUEST_AVAILABLE;
+        case 78: return FLUSH_QUEUE_REQUEST;
+        case 79: return QUERY_GALT;
+        case 80: return QUERY_GALT_RESPONSE;
+        case 81: return QUERY_LITS;
+        case 82: return QUERY_LITS_RESPONSE;
+        case 83: return MODIFY_LOOKAHEAD;
+        case 84: return RETRACT;
+        case 85: return RETRACT_RESPONSE;
+        case 86: return CREATE_REGION;
+        case 87: return COMMIT_REGION_MODIFICATIONS;
+        case 88: return DELETE_REGION;
+        case 89: return ASSOCIATE_REGIONS_FOR_UPDATES;
+        case 90: return ASSOCIATE_REGIONS_FOR_UPDATES_RESPONSE;
+        case 91: return UNASSOCIATE_REGIONS_FOR_UPDATES;
+        case 92: return UNASSOCIATE_REGIONS_FOR_UPDATES_RESPONSE;
+        case 93: return SUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_WITH_REGIONS;
+        case 94: return UNSUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_WITH_REGIONS;
+        case 95: return SUBSCRIBE_INTERACTION_CLASS_WITH_REGIONS;
+        case 96: return UNSUBSCRIBE_INTERACTION_CLASS_WITH_REGIONS;
+        case 97: return REPORT_FEDERATION_EXECUTIONS;
+        case 98: return SYNCHRONIZATION_POINT_REGISTRATION_SUCCEEDED;
+        case 99: return SYNCHRONIZATION_POINT_REGISTRATION_FAILED;
+        case 100: return ANNOUNCE_SYNCHRONIZATION_POINT;
+        case 101: return FEDERATION_SYNCHRONIZED;
+        case 102: return INITIATE_FEDERATE_SAVE;
+        case 103: return FEDERATION_SAVED;
+        case 104: return FEDERATION_NOT_SAVED;
+        case 105: return FEDERATION_SAVE_STATUS_RESPONSE;
+        case 106: return REQUEST_FEDERATION_RESTORE_SUCCEEDED;
+        case 107: return REQUEST_FEDERATION_RESTORE_FAILED;
+        case 108: return FEDERATION_RESTORE_BEGUN;
+        case 109: return INITIATE_FEDERATE_RESTORE;
+        case 110: return FEDERATION_RESTORED;
+        case 111: return FEDERATION_NOT_RESTORED;
+        case 112: return FEDERATION_RESTORE_STATUS_RESPONSE;
+        case 113: return START_REGISTRATION_FOR_OBJECT_CLASS;
+        case 114: return STOP_REGISTRATION_FOR_OBJECT_CLASS;
+        case 115: return TURN_INTERACTIONS_ON;
+        case 116: return TURN_INTERACTIONS_OFF;
+        case 117: return OBJECT_INSTANCE_NAME_RESERVATION_SUCCEEDED;
+        case 118: return OBJECT_INSTANCE_NAME_RESERVATION_FAILED;
+        case 119: return DISCOVER_OBJECT_INSTANCE;
+        case 120: return REFLECT_ATTRIBUTE_VALUES;
+        case 121: return REMOVE_OBJECT_INSTANCE;
+        case 122: return ATTRIBUTES_IN_SCOPE;
+        case 123: return ATTRIBUTES_OUT_OF_SCOPE;
+        case 124: return PROVIDE_ATTRIBUTE_VALUE_UPDATE;
+        case 125: return TURN_UPDATES_ON_FOR_OBJECT_INSTANCE;
+        case 126: return TURN_UPDATES_OFF_FOR_OBJECT_INSTANCE;
+        case 127: return RECEIVE_INTERACTION;
+        case 128: return REQUEST_ATTRIBUTE_OWNERSHIP_ASSUMPTION;
+        case 129: return REQUEST_DIVESTITURE_CONFIRMATION;
+        case 130: return ATTRIBUTE_OWNERSHIP_ACQUISITION_NOTIFICATION;
+        case 131: return ATTRIBUTE_OWNERSHIP_UNAVAILABLE;
+        case 132: return REQUEST_ATTRIBUTE_OWNERSHIP_RELEASE;
+        case 133: return CONFIRM_ATTRIBUTE_OWNERSHIP_ACQUISITION_CANCELLATION;
+        case 134: return INFORM_ATTRIBUTE_OWNERSHIP;
+        case 135: return ATTRIBUTE_IS_NOT_OWNED;
+        case 136: return ATTRIBUTE_IS_OWNED_BY_RTI;
+        case 137: return TIME_REGULATION_ENABLED;
+        case 138: return TIME_CONSTRAINED_ENABLED;
+        case 139: return TIME_ADVANCE_GRANT;
+        case 140: return REQUEST_RETRACTION;
+        case 141: return FEDERATE_STATE_FRAME;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<MessageType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<MessageType>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<MessageType>() {
+            public MessageType findValueByNumber(int number) {
+              return MessageType.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.messages.proto.MessageProtos.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final MessageType[] VALUES = values();
+
+    public static MessageType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private MessageType(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:ohla.rti.messages.proto.MessageType)
+  }
+
+  public interface AttributeValueOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint32 attributeHandle = 1;
+    /**
+     * <code>required uint32 attributeHandle = 1;</code>
+     */
+    boolean hasAttributeHandle();
+    /**
+     * <code>required uint32 attributeHandle = 1;</code>
+     */
+    int getAttributeHandle();
+
+    // required bytes value = 2;
+    /**
+     * <code>required bytes value = 2;</code>
+     */
+    boolean hasValue();
+    /**
+     * <code>required bytes value = 2;</code>
+     */
+    com.google.protobuf.ByteString getValue();
+  }
+  /**
+   * Protobuf type {@code ohla.rti.messages.proto.AttributeValue}
+   */
+  public static final class AttributeValue extends
+      com.google.protobuf.GeneratedMessage
+      implements AttributeValueOrBuilder {
+    // Use AttributeValue.newBuilder() to construct.
+    private AttributeValue(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private AttributeValue(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final AttributeValue defaultInstance;
+    public static AttributeValue getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public AttributeValue getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AttributeValue(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              attributeHandle_ = input.readUInt32();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              value_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_AttributeValue_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_AttributeValue_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue.class, net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<AttributeValue> PARSER =
+        new com.google.protobuf.AbstractParser<AttributeValue>() {
+      public AttributeValue parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AttributeValue(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AttributeValue> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required uint32 attributeHandle = 1;
+    public static final int ATTRIBUTEHANDLE_FIELD_NUMBER = 1;
+    private int attributeHandle_;
+    /**
+     * <code>required uint32 attributeHandle = 1;</code>
+     */
+    public boolean hasAttributeHandle() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint32 attributeHandle = 1;</code>
+     */
+    public int getAttributeHandle() {
+      return attributeHandle_;
+    }
+
+    // required bytes value = 2;
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString value_;
+    /**
+     * <code>required bytes value = 2;</code>
+     */
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required bytes value = 2;</code>
+     */
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
+    }
+
+    private void initFields() {
+      attributeHandle_ = 0;
+      value_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasAttributeHandle()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasValue()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, attributeHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, value_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, attributeHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, value_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.messages.proto.AttributeValue}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValueOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_AttributeValue_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_AttributeValue_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue.class, net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        attributeHandle_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        value_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_AttributeValue_descriptor;
+      }
+
+      public net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue getDefaultInstanceForType() {
+        return net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue build() {
+        net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue buildPartial() {
+        net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue result = new net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.attributeHandle_ = attributeHandle_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.value_ = value_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue) {
+          return mergeFrom((net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue other) {
+        if (other == net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue.getDefaultInstance()) return this;
+        if (other.hasAttributeHandle()) {
+          setAttributeHandle(other.getAttributeHandle());
+        }
+        if (other.hasValue()) {
+          setValue(other.getValue());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasAttributeHandle()) {
+          
+          return false;
+        }
+        if (!hasValue()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.messages.proto.MessageProtos.AttributeValue) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint32 attributeHandle = 1;
+      private int attributeHandle_ ;
+      /**
+       * <code>required uint32 attributeHandle = 1;</code>
+       */
+      public boolean hasAttributeHandle() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 attributeHandle = 1;</code>
+       */
+      public int getAttributeHandle() {
+        return attributeHandle_;
+      }
+      /**
+       * <code>required uint32 attributeHandle = 1;</code>
+       */
+      public Builder setAttributeHandle(int value) {
+        bitField0_ |= 0x00000001;
+        attributeHandle_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 attributeHandle = 1;</code>
+       */
+      public Builder clearAttributeHandle() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        attributeHandle_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required bytes value = 2;
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes value = 2;</code>
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bytes value = 2;</code>
+       */
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
+      }
+      /**
+       * <code>required bytes value = 2;</code>
+       */
+      public Builder setValue(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes value = 2;</code>
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.messages.proto.AttributeValue)
+    }
+
+    static {
+      defaultInstance = new AttributeValue(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.AttributeValue)
+  }
+
+  public interface ParameterValueOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint32 parameterHandle = 1;
+    /**
+     * <code>required uint32 parameterHandle = 1;</code>
+     */
+    boolean hasParameterHandle();
+    /**
+     * <code>required uint32 parameterHandle = 1;</code>
+     */
+    int getParameterHandle();
+
+    // required bytes value = 2;
+    /**
+     * <code>required bytes value = 2;</code>
+     */
+    boolean hasValue();
+    /**
+     * <code>required bytes value = 2;</code>
+     */
+    com.google.protobuf.ByteString getValue();
+  }
+  /**
+   * Protobuf type {@code ohla.rti.messages.proto.ParameterValue}
+   */
+  public static final class ParameterValue extends
+      com.google.protobuf.GeneratedMessage
+      implements ParameterValueOrBuilder {
+    // Use ParameterValue.newBuilder() to construct.
+    private ParameterValue(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ParameterValue(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final ParameterValue defaultInstance;
+    public static ParameterValue getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ParameterValue getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ParameterValue(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              parameterHandle_ = input.readUInt32();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              value_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_ParameterValue_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_ParameterValue_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue.class, net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ParameterValue> PARSER =
+        new com.google.protobuf.AbstractParser<ParameterValue>() {
+      public ParameterValue parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ParameterValue(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ParameterValue> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required uint32 parameterHandle = 1;
+    public static final int PARAMETERHANDLE_FIELD_NUMBER = 1;
+    private int parameterHandle_;
+    /**
+     * <code>required uint32 parameterHandle = 1;</code>
+     */
+    public boolean hasParameterHandle() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint32 parameterHandle = 1;</code>
+     */
+    public int getParameterHandle() {
+      return parameterHandle_;
+    }
+
+    // required bytes value = 2;
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString value_;
+    /**
+     * <code>required bytes value = 2;</code>
+     */
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required bytes value = 2;</code>
+     */
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
+    }
+
+    private void initFields() {
+      parameterHandle_ = 0;
+      value_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasParameterHandle()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasValue()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, parameterHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, value_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, parameterHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, value_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.messages.proto.ParameterValue}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValueOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_ParameterValue_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_ParameterValue_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue.class, net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        parameterHandle_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        value_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_ParameterValue_descriptor;
+      }
+
+      public net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue getDefaultInstanceForType() {
+        return net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue build() {
+        net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue buildPartial() {
+        net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue result = new net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.parameterHandle_ = parameterHandle_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.value_ = value_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue) {
+          return mergeFrom((net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue other) {
+        if (other == net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue.getDefaultInstance()) return this;
+        if (other.hasParameterHandle()) {
+          setParameterHandle(other.getParameterHandle());
+        }
+        if (other.hasValue()) {
+          setValue(other.getValue());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasParameterHandle()) {
+          
+          return false;
+        }
+        if (!hasValue()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.messages.proto.MessageProtos.ParameterValue) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint32 parameterHandle = 1;
+      private int parameterHandle_ ;
+      /**
+       * <code>required uint32 parameterHandle = 1;</code>
+       */
+      public boolean hasParameterHandle() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 parameterHandle = 1;</code>
+       */
+      public int getParameterHandle() {
+        return parameterHandle_;
+      }
+      /**
+       * <code>required uint32 parameterHandle = 1;</code>
+       */
+      public Builder setParameterHandle(int value) {
+        bitField0_ |= 0x00000001;
+        parameterHandle_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 parameterHandle = 1;</code>
+       */
+      public Builder clearParameterHandle() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        parameterHandle_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required bytes value = 2;
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes value = 2;</code>
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bytes value = 2;</code>
+       */
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
+      }
+      /**
+       * <code>required bytes value = 2;</code>
+       */
+      public Builder setValue(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes value = 2;</code>
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.messages.proto.ParameterValue)
+    }
+
+    static {
+      defaultInstance = new ParameterValue(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ParameterValue)
+  }
+
+  public interface FederateStateFrameOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required bytes payload = 1;
+    /**
+     * <code>required bytes payload = 1;</code>
+     */
+    boolean hasPayload();
+    /**
+     * <code>required bytes payload = 1;</code>
+     */
+    com.google.protobuf.ByteString getPayload();
+
+    // required bool last = 2;
+    /**
+     * <code>required bool last = 2;</code>
+     */
+    boolean hasLast();
+    /**
+     * <code>required bool last = 2;</code>
+     */
+    boolean getLast();
+  }
+  /**
+   * Protobuf type {@code ohla.rti.messages.proto.FederateStateFrame}
+   */
+  public static final class FederateStateFrame extends
+      com.google.protobuf.GeneratedMessage
+      implements FederateStateFrameOrBuilder {
+    // Use FederateStateFrame.newBuilder() to construct.
+    private FederateStateFrame(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private FederateStateFrame(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final FederateStateFrame defaultInstance;
+    public static FederateStateFrame getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public FederateStateFrame getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private FederateStateFrame(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              payload_ = input.readBytes();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              last_ = input.readBool();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_FederateStateFrame_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_FederateStateFrame_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame.class, net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<FederateStateFrame> PARSER =
+        new com.google.protobuf.AbstractParser<FederateStateFrame>() {
+      public FederateStateFrame parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new FederateStateFrame(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FederateStateFrame> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required bytes payload = 1;
+    public static final int PAYLOAD_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString payload_;
+    /**
+     * <code>required bytes payload = 1;</code>
+     */
+    public boolean hasPayload() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required bytes payload = 1;</code>
+     */
+    public com.google.protobuf.ByteString getPayload() {
+      return payload_;
+    }
+
+    // required bool last = 2;
+    public static final int LAST_FIELD_NUMBER = 2;
+    private boolean last_;
+    /**
+     * <code>required bool last = 2;</code>
+     */
+    public boolean hasLast() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required bool last = 2;</code>
+     */
+    public boolean getLast() {
+      return last_;
+    }
+
+    private void initFields() {
+      payload_ = com.google.protobuf.ByteString.EMPTY;
+      last_ = false;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasPayload()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasLast()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, payload_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(2, last_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, payload_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, last_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.messages.proto.FederateStateFrame}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrameOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_FederateStateFrame_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_FederateStateFrame_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame.class, net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        payload_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        last_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.messages.proto.MessageProtos.internal_static_ohla_rti_messages_proto_FederateStateFrame_descriptor;
+      }
+
+      public net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame getDefaultInstanceForType() {
+        return net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame build() {
+        net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame buildPartial() {
+        net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame result = new net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.payload_ = payload_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.last_ = last_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame) {
+          return mergeFrom((net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame other) {
+        if (other == net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame.getDefaultInstance()) return this;
+        if (other.hasPayload()) {
+          setPayload(other.getPayload());
+        }
+        if (other.hasLast()) {
+          setLast(other.getLast());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasPayload()) {
+          
+          return false;
+        }
+        if (!hasLast()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.messages.proto.MessageProtos.FederateStateFrame) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required bytes payload = 1;
+      private com.google.protobuf.ByteString payload_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes payload = 1;</code>
+       */
+      public boolean hasPayload() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required bytes payload = 1;</code>
+       */
+      public com.google.protobuf.ByteString getPayload() {
+        return payload_;
+      }
+      /**
+       * <code>required bytes payload = 1;</code>
+       */
+      public Builder setPayload(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        payload_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes payload = 1;</code>
+       */
+      public Builder clearPayload() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        payload_ = getDefaultInstance().getPayload();
+        onChanged();
+        return this;
+      }
+
+      // required bool last = 2;
+      private boolean last_ ;
+      /**
+       * <code>required bool last = 2;</code>
+       */
+      public boolean hasLast() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bool last = 2;</code>
+       */
+      public boolean getLast() {
+        return last_;
+      }
+      /**
+       * <code>required bool last = 2;</code>
+       */
+      public Builder setLast(boolean value) {
+        bitField0_ |= 0x00000002;
+        last_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool last = 2;</code>
+       */
+      public Builder clearLast() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        last_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.messages.proto.FederateStateFrame)
+    }
+
+    static {
+      defaultInstance = new FederateStateFrame(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.FederateStateFrame)
+  }
+
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_messages_proto_AttributeValue_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_messages_proto_AttributeValue_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_messages_proto_ParameterValue_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_messages_proto_ParameterValue_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_messages_proto_FederateStateFrame_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_messages_proto_FederateStateFrame_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\023MessageProtos.proto\022\027ohla.rti.messages" +
+      ".proto\032\020OHLAProtos.proto\"8\n\016AttributeVal" +
+      "ue\022\027\n\017attributeHandle\030\001 \002(\r\022\r\n\005value\030\002 \002" +
+      "(\014\"8\n\016ParameterValue\022\027\n\017parameterHandle\030" +
+      "\001 \002(\r\022\r\n\005value\030\002 \002(\014\"3\n\022FederateStateFra" +
+      "me\022\017\n\007payload\030\001 \002(\014\022\014\n\004last\030\002 \002(\010*\376&\n\013Me" +
+      "ssageType\022\017\n\013FDD_UPDATED\020\001\022\037\n\033CREATE_FED" +
+      "ERATION_EXECUTION\020\002\022(\n$CREATE_FEDERATION" +
+      "_EXECUTION_RESPONSE\020\003\022 \n\034DESTROY_FEDERAT" +
+      "ION_EXECUTION\020\004\022)\n%DESTROY_FEDERATION_EX",
+      "ECUTION_RESPONSE\020\005\022\036\n\032LIST_FEDERATION_EX" +
+      "ECUTIONS\020\006\022\035\n\031JOIN_FEDERATION_EXECUTION\020" +
+      "\007\022&\n\"JOIN_FEDERATION_EXECUTION_RESPONSE\020" +
+      "\010\022\037\n\033RESIGN_FEDERATION_EXECUTION\020\t\022!\n\035RE" +
+      "SIGNED_FEDERATION_EXECUTION\020\n\022-\n)REGISTE" +
+      "R_FEDERATION_SYNCHRONIZATION_POINT\020\013\022\"\n\036" +
+      "SYNCHRONIZATION_POINT_ACHIEVED\020\014\022\033\n\027REQU" +
+      "EST_FEDERATION_SAVE\020\r\022$\n REQUEST_FEDERAT" +
+      "ION_SAVE_RESPONSE\020\016\022\027\n\023FEDERATE_SAVE_BEG" +
+      "UN\020\017\022\032\n\026FEDERATE_SAVE_COMPLETE\020\020\022\036\n\032FEDE",
+      "RATE_SAVE_NOT_COMPLETE\020\021\022\031\n\025ABORT_FEDERA" +
+      "TION_SAVE\020\022\022\"\n\036ABORT_FEDERATION_SAVE_RES" +
+      "PONSE\020\023\022 \n\034QUERY_FEDERATION_SAVE_STATUS\020" +
+      "\024\022\036\n\032REQUEST_FEDERATION_RESTORE\020\025\022\'\n#REQ" +
+      "UEST_FEDERATION_RESTORE_RESPONSE\020\026\022\035\n\031FE" +
+      "DERATE_RESTORE_COMPLETE\020\027\022!\n\035FEDERATE_RE" +
+      "STORE_NOT_COMPLETE\020\030\022\034\n\030ABORT_FEDERATION" +
+      "_RESTORE\020\031\022%\n!ABORT_FEDERATION_RESTORE_R" +
+      "ESPONSE\020\032\022#\n\037QUERY_FEDERATION_RESTORE_ST" +
+      "ATUS\020\033\022#\n\037PUBLISH_OBJECT_CLASS_ATTRIBUTE",
+      "S\020\034\022\032\n\026UNPUBLISH_OBJECT_CLASS\020\035\022%\n!UNPUB" +
+      "LISH_OBJECT_CLASS_ATTRIBUTES\020\036\022\035\n\031PUBLIS" +
+      "H_INTERACTION_CLASS\020\037\022\037\n\033UNPUBLISH_INTER" +
+      "ACTION_CLASS\020 \022%\n!SUBSCRIBE_OBJECT_CLASS" +
+      "_ATTRIBUTES\020!\022\'\n#UNSUBSCRIBE_OBJECT_CLAS" +
+      "S_ATTRIBUTES\020\"\022\037\n\033SUBSCRIBE_INTERACTION_" +
+      "CLASS\020#\022!\n\035UNSUBSCRIBE_INTERACTION_CLASS" +
+      "\020$\022 \n\034RESERVE_OBJECT_INSTANCE_NAME\020%\022 \n\034" +
+      "RELEASE_OBJECT_INSTANCE_NAME\020&\022)\n%RESERV" +
+      "E_MULTIPLE_OBJECT_INSTANCE_NAME\020\'\0227\n3MUL",
+      "TIPLE_OBJECT_INSTANCE_NAME_RESERVATION_S" +
+      "UCCEEDED\020(\0224\n0MULTIPLE_OBJECT_INSTANCE_N" +
+      "AME_RESERVATION_FAILED\020)\022)\n%RELEASE_MULT" +
+      "IPLE_OBJECT_INSTANCE_NAME\020*\022\034\n\030REGISTER_" +
+      "OBJECT_INSTANCE\020+\022\033\n\027UPDATE_ATTRIBUTE_VA" +
+      "LUES\020,\022\024\n\020SEND_INTERACTION\020-\022\032\n\026DELETE_O" +
+      "BJECT_INSTANCE\020.\022 \n\034LOCAL_DELETE_OBJECT_" +
+      "INSTANCE\020/\0222\n.REQUEST_OBJECT_INSTANCE_AT" +
+      "TRIBUTE_VALUE_UPDATE\0200\022/\n+REQUEST_OBJECT" +
+      "_CLASS_ATTRIBUTE_VALUE_UPDATE\0201\022<\n8REQUE",
+      "ST_OBJECT_CLASS_ATTRIBUTE_VALUE_UPDATE_W" +
+      "ITH_REGIONS\0202\022\"\n\036SET_AUTOMATIC_RESIGN_DI" +
+      "RECTIVE\0203\022\027\n\023GET_FEDERATE_HANDLE\0204\022 \n\034GE" +
+      "T_FEDERATE_HANDLE_RESPONSE\0205\022\025\n\021GET_FEDE" +
+      "RATE_NAME\0206\022\036\n\032GET_FEDERATE_NAME_RESPONS" +
+      "E\0207\022\'\n#GET_UPDATE_RATE_VALUE_FOR_ATTRIBU" +
+      "TE\0208\0220\n,GET_UPDATE_RATE_VALUE_FOR_ATTRIB" +
+      "UTE_RESPONSE\0209\022)\n%QUERY_INTERACTION_TRAN" +
+      "SPORTATION_TYPE\020:\022*\n&REPORT_INTERACTION_" +
+      "TRANSPORTATION_TYPE\020;\0221\n-UNCONDITIONAL_A",
+      "TTRIBUTE_OWNERSHIP_DIVESTITURE\020<\022.\n*NEGO" +
+      "TIATED_ATTRIBUTE_OWNERSHIP_DIVESTITURE\020=" +
+      "\022\027\n\023CONFIRM_DIVESTITURE\020>\022#\n\037ATTRIBUTE_O" +
+      "WNERSHIP_ACQUISITION\020?\0220\n,ATTRIBUTE_OWNE" +
+      "RSHIP_ACQUISITION_IF_AVAILABLE\020@\022-\n)ATTR" +
+      "IBUTE_OWNERSHIP_DIVESTITURE_IF_WANTED\020A\022" +
+      "6\n2ATTRIBUTE_OWNERSHIP_DIVESTITURE_IF_WA" +
+      "NTED_RESPONSE\020B\0225\n1CANCEL_NEGOTIATED_ATT" +
+      "RIBUTE_OWNERSHIP_DIVESTITURE\020C\022*\n&CANCEL" +
+      "_ATTRIBUTE_OWNERSHIP_ACQUISITION\020D\022\035\n\031QU",
+      "ERY_ATTRIBUTE_OWNERSHIP\020E\022\032\n\026ENABLE_TIME" +
+      "_REGULATION\020F\022\033\n\027DISABLE_TIME_REGULATION" +
+      "\020G\022\033\n\027ENABLE_TIME_CONSTRAINED\020H\022\034\n\030DISAB" +
+      "LE_TIME_CONSTRAINED\020I\022\030\n\024TIME_ADVANCE_RE" +
+      "QUEST\020J\022\"\n\036TIME_ADVANCE_REQUEST_AVAILABL" +
+      "E\020K\022\030\n\024NEXT_MESSAGE_REQUEST\020L\022\"\n\036NEXT_ME" +
+      "SSAGE_REQUEST_AVAILABLE\020M\022\027\n\023FLUSH_QUEUE" +
+      "_REQUEST\020N\022\016\n\nQUERY_GALT\020O\022\027\n\023QUERY_GALT" +
+      "_RESPONSE\020P\022\016\n\nQUERY_LITS\020Q\022\027\n\023QUERY_LIT" +
+      "S_RESPONSE\020R\022\024\n\020MODIFY_LOOKAHEAD\020S\022\013\n\007RE",
+      "TRACT\020T\022\024\n\020RETRACT_RESPONSE\020U\022\021\n\rCREATE_" +
+      "REGION\020V\022\037\n\033COMMIT_REGION_MODIFICATIONS\020" +
+      "W\022\021\n\rDELETE_REGION\020X\022!\n\035ASSOCIATE_REGION" +
+      "S_FOR_UPDATES\020Y\022*\n&ASSOCIATE_REGIONS_FOR" +
+      "_UPDATES_RESPONSE\020Z\022#\n\037UNASSOCIATE_REGIO" +
+      "NS_FOR_UPDATES\020[\022,\n(UNASSOCIATE_REGIONS_" +
+      "FOR_UPDATES_RESPONSE\020\\\0222\n.SUBSCRIBE_OBJE" +
+      "CT_CLASS_ATTRIBUTES_WITH_REGIONS\020]\0224\n0UN" +
+      "SUBSCRIBE_OBJECT_CLASS_ATTRIBUTES_WITH_R" +
+      "EGIONS\020^\022,\n(SUBSCRIBE_INTERACTION_CLASS_",
+      "WITH_REGIONS\020_\022.\n*UNSUBSCRIBE_INTERACTIO" +
+      "N_CLASS_WITH_REGIONS\020`\022 \n\034REPORT_FEDERAT" +
+      "ION_EXECUTIONS\020a\0220\n,SYNCHRONIZATION_POIN" +
+      "T_REGISTRATION_SUCCEEDED\020b\022-\n)SYNCHRONIZ" +
+      "ATION_POINT_REGISTRATION_FAILED\020c\022\"\n\036ANN" +
+      "OUNCE_SYNCHRONIZATION_POINT\020d\022\033\n\027FEDERAT" +
+      "ION_SYNCHRONIZED\020e\022\032\n\026INITIATE_FEDERATE_" +
+      "SAVE\020f\022\024\n\020FEDERATION_SAVED\020g\022\030\n\024FEDERATI" +
+      "ON_NOT_SAVED\020h\022#\n\037FEDERATION_SAVE_STATUS" +
+      "_RESPONSE\020i\022(\n$REQUEST_FEDERATION_RESTOR",
+      "E_SUCCEEDED\020j\022%\n!REQUEST_FEDERATION_REST" +
+      "ORE_FAILED\020k\022\034\n\030FEDERATION_RESTORE_BEGUN" +
+      "\020l\022\035\n\031INITIATE_FEDERATE_RESTORE\020m\022\027\n\023FED" +
+      "ERATION_RESTORED\020n\022\033\n\027FEDERATION_NOT_RES" +
+      "TORED\020o\022&\n\"FEDERATION_RESTORE_STATUS_RES" +
+      "PONSE\020p\022\'\n#START_REGISTRATION_FOR_OBJECT" +
+      "_CLASS\020q\022&\n\"STOP_REGISTRATION_FOR_OBJECT" +
+      "_CLASS\020r\022\030\n\024TURN_INTERACTIONS_ON\020s\022\031\n\025TU" +
+      "RN_INTERACTIONS_OFF\020t\022.\n*OBJECT_INSTANCE" +
+      "_NAME_RESERVATION_SUCCEEDED\020u\022+\n\'OBJECT_",
+      "INSTANCE_NAME_RESERVATION_FAILED\020v\022\034\n\030DI" +
+      "SCOVER_OBJECT_INSTANCE\020w\022\034\n\030REFLECT_ATTR" +
+      "IBUTE_VALUES\020x\022\032\n\026REMOVE_OBJECT_INSTANCE" +
+      "\020y\022\027\n\023ATTRIBUTES_IN_SCOPE\020z\022\033\n\027ATTRIBUTE" +
+      "S_OUT_OF_SCOPE\020{\022\"\n\036PROVIDE_ATTRIBUTE_VA" +
+      "LUE_UPDATE\020|\022\'\n#TURN_UPDATES_ON_FOR_OBJE" +
+      "CT_INSTANCE\020}\022(\n$TURN_UPDATES_OFF_FOR_OB" +
+      "JECT_INSTANCE\020~\022\027\n\023RECEIVE_INTERACTION\020\177" +
+      "\022+\n&REQUEST_ATTRIBUTE_OWNERSHIP_ASSUMPTI" +
+      "ON\020\200\001\022%\n REQUEST_DIVESTITURE_CONFIRMATIO",
+      "N\020\201\001\0221\n,ATTRIBUTE_OWNERSHIP_ACQUISITION_" +
+      "NOTIFICATION\020\202\001\022$\n\037ATTRIBUTE_OWNERSHIP_U" +
+      "NAVAILABLE\020\203\001\022(\n#REQUEST_ATTRIBUTE_OWNER" +
+      "SHIP_RELEASE\020\204\001\0229\n4CONFIRM_ATTRIBUTE_OWN" +
+      "ERSHIP_ACQUISITION_CANCELLATION\020\205\001\022\037\n\032IN" +
+      "FORM_ATTRIBUTE_OWNERSHIP\020\206\001\022\033\n\026ATTRIBUTE" +
+      "_IS_NOT_OWNED\020\207\001\022\036\n\031ATTRIBUTE_IS_OWNED_B" +
+      "Y_RTI\020\210\001\022\034\n\027TIME_REGULATION_ENABLED\020\211\001\022\035" +
+      "\n\030TIME_CONSTRAINED_ENABLED\020\212\001\022\027\n\022TIME_AD" +
+      "VANCE_GRANT\020\213\001\022\027\n\022REQUEST_RETRACTION\020\214\001\022",
+      "\031\n\024FEDERATE_STATE_FRAME\020\215\001B \n\036net.sf.ohl" +
+      "a.rti.messages.proto"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+      new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
+        public com.google.protobuf.ExtensionRegistry assignDescriptors(
+            com.google.protobuf.Descriptors.FileDescriptor root) {
+          descriptor = root;
+          internal_static_ohla_rti_messages_proto_AttributeValue_descriptor =
+            getDescriptor().getMessageTypes().get(0);
+          internal_static_ohla_rti_messages_proto_AttributeValue_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_messages_proto_AttributeValue_descriptor,
+              new java.lang.String[] { "AttributeHandle", "Value", });
+          internal_static_ohla_rti_messages_proto_ParameterValue_descriptor =
+            getDescriptor().getMessageTypes().get(1);
+          internal_static_ohla_rti_messages_proto_ParameterValue_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_messages_proto_ParameterValue_descriptor,
+              new java.lang.String[] { "ParameterHandle", "Value", });
+          internal_static_ohla_rti_messages_proto_FederateStateFrame_descriptor =
+            getDescriptor().getMessageTypes().get(2);
+          internal_static_ohla_rti_messages_proto_FederateStateFrame_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_messages_proto_FederateStateFrame_descriptor,
+              new java.lang.String[] { "Payload", "Last", });
+          return null;
+        }
+      };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          net.sf.ohla.rti.proto.OHLAProtos.getDescriptor(),
+        }, assigner);
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
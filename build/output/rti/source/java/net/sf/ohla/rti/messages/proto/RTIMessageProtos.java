@@ -0,0 +1,3086 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: RTIMessageProtos.proto
+
+package net.sf.ohla.rti.messages.proto;
+
+public final class RTIMessageProtos {
+  private RTIMessageProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+  }
+  public interface CreateFederationExecutionOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint64 requestId = 1;
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    boolean hasRequestId();
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    long getRequestId();
+
+    // required string federationExecutionName = 2;
+    /**
+     * <code>required string federationExecutionName = 2;</code>
+     */
+    boolean hasFederationExecutionName();
+    /**
+     * <code>required string federationExecutionName = 2;</code>
+     */
+    java.lang.String getFederationExecutionName();
+    /**
+     * <code>required string federationExecutionName = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getFederationExecutionNameBytes();
+
+    // required .ohla.rti.proto.FDD fdd = 3;
+    /**
+     * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+     */
+    boolean hasFdd();
+    /**
+     * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.FDD getFdd();
+    /**
+     * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder getFddOrBuilder();
+
+    // required string logicalTimeImplementationName = 4;
+    /**
+     * <code>required string logicalTimeImplementationName = 4;</code>
+     */
+    boolean hasLogicalTimeImplementationName();
+    /**
+     * <code>required string logicalTimeImplementationName = 4;</code>
+     */
+    java.lang.String getLogicalTimeImplementationName();
+    /**
+     * <code>required string logicalTimeImplementationName = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getLogicalTimeImplementationNameBytes();
+  }
+  /**
+   * Protobuf type {@code ohla.rti.messages.proto.CreateFederationExecution}
+   */
+  public static final class CreateFederationExecution extends
+      com.google.protobuf.GeneratedMessage
+      implements CreateFederationExecutionOrBuilder {
+    // Use CreateFederationExecution.newBuilder() to construct.
+    private CreateFederationExecution(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private CreateFederationExecution(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final CreateFederationExecution defaultInstance;
+    public static CreateFederationExecution getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public CreateFederationExecution getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CreateFederationExecution(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              requestId_ = input.readUInt64();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              federationExecutionName_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = fdd_.toBuilder();
+              }
+              fdd_ = input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.FDD.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fdd_);
+                fdd_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            case 34: {
+              bitField0_ |= 0x00000008;
+              logicalTimeImplementationName_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecution_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecution_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution.class, net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<CreateFederationExecution> PARSER =
+        new com.google.protobuf.AbstractParser<CreateFederationExecution>() {
+      public CreateFederationExecution parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CreateFederationExecution(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateFederationExecution> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required uint64 requestId = 1;
+    public static final int REQUESTID_FIELD_NUMBER = 1;
+    private long requestId_;
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    public boolean hasRequestId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
+    // required string federationExecutionName = 2;
+    public static final int FEDERATIONEXECUTIONNAME_FIELD_NUMBER = 2;
+    private java.lang.Object federationExecutionName_;
+    /**
+     * <code>required string federationExecutionName = 2;</code>
+     */
+    public boolean hasFederationExecutionName() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string federationExecutionName = 2;</code>
+     */
+    public java.lang.String getFederationExecutionName() {
+      java.lang.Object ref = federationExecutionName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          federationExecutionName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string federationExecutionName = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getFederationExecutionNameBytes() {
+      java.lang.Object ref = federationExecutionName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        federationExecutionName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required .ohla.rti.proto.FDD fdd = 3;
+    public static final int FDD_FIELD_NUMBER = 3;
+    private net.sf.ohla.rti.proto.OHLAProtos.FDD fdd_;
+    /**
+     * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+     */
+    public boolean hasFdd() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.FDD getFdd() {
+      return fdd_;
+    }
+    /**
+     * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder getFddOrBuilder() {
+      return fdd_;
+    }
+
+    // required string logicalTimeImplementationName = 4;
+    public static final int LOGICALTIMEIMPLEMENTATIONNAME_FIELD_NUMBER = 4;
+    private java.lang.Object logicalTimeImplementationName_;
+    /**
+     * <code>required string logicalTimeImplementationName = 4;</code>
+     */
+    public boolean hasLogicalTimeImplementationName() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required string logicalTimeImplementationName = 4;</code>
+     */
+    public java.lang.String getLogicalTimeImplementationName() {
+      java.lang.Object ref = logicalTimeImplementationName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          logicalTimeImplementationName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string logicalTimeImplementationName = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLogicalTimeImplementationNameBytes() {
+      java.lang.Object ref = logicalTimeImplementationName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        logicalTimeImplementationName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      requestId_ = 0L;
+      federationExecutionName_ = "";
+      fdd_ = net.sf.ohla.rti.proto.OHLAProtos.FDD.getDefaultInstance();
+      logicalTimeImplementationName_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasRequestId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasFederationExecutionName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasFdd()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasLogicalTimeImplementationName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getFdd().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, requestId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getFederationExecutionNameBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, fdd_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getLogicalTimeImplementationNameBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, requestId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getFederationExecutionNameBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, fdd_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getLogicalTimeImplementationNameBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.messages.proto.CreateFederationExecution}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecutionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecution_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecution_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution.class, net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getFddFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        requestId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        federationExecutionName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (fddBuilder_ == null) {
+          fdd_ = net.sf.ohla.rti.proto.OHLAProtos.FDD.getDefaultInstance();
+        } else {
+          fddBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        logicalTimeImplementationName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_CreateFederationExecution_descriptor;
+      }
+
+      public net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution getDefaultInstanceForType() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution build() {
+        net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution buildPartial() {
+        net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution result = new net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.requestId_ = requestId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.federationExecutionName_ = federationExecutionName_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (fddBuilder_ == null) {
+          result.fdd_ = fdd_;
+        } else {
+          result.fdd_ = fddBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.logicalTimeImplementationName_ = logicalTimeImplementationName_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution) {
+          return mergeFrom((net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution other) {
+        if (other == net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution.getDefaultInstance()) return this;
+        if (other.hasRequestId()) {
+          setRequestId(other.getRequestId());
+        }
+        if (other.hasFederationExecutionName()) {
+          bitField0_ |= 0x00000002;
+          federationExecutionName_ = other.federationExecutionName_;
+          onChanged();
+        }
+        if (other.hasFdd()) {
+          mergeFdd(other.getFdd());
+        }
+        if (other.hasLogicalTimeImplementationName()) {
+          bitField0_ |= 0x00000008;
+          logicalTimeImplementationName_ = other.logicalTimeImplementationName_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasRequestId()) {
+          
+          return false;
+        }
+        if (!hasFederationExecutionName()) {
+          
+          return false;
+        }
+        if (!hasFdd()) {
+          
+          return false;
+        }
+        if (!hasLogicalTimeImplementationName()) {
+          
+          return false;
+        }
+        if (!getFdd().isInitialized()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.messages.proto.RTIMessageProtos.CreateFederationExecution) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint64 requestId = 1;
+      private long requestId_ ;
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public boolean hasRequestId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public Builder setRequestId(long value) {
+        bitField0_ |= 0x00000001;
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public Builder clearRequestId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // required string federationExecutionName = 2;
+      private java.lang.Object federationExecutionName_ = "";
+      /**
+       * <code>required string federationExecutionName = 2;</code>
+       */
+      public boolean hasFederationExecutionName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string federationExecutionName = 2;</code>
+       */
+      public java.lang.String getFederationExecutionName() {
+        java.lang.Object ref = federationExecutionName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          federationExecutionName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string federationExecutionName = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFederationExecutionNameBytes() {
+        java.lang.Object ref = federationExecutionName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          federationExecutionName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string federationExecutionName = 2;</code>
+       */
+      public Builder setFederationExecutionName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        federationExecutionName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string federationExecutionName = 2;</code>
+       */
+      public Builder clearFederationExecutionName() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        federationExecutionName_ = getDefaultInstance().getFederationExecutionName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string federationExecutionName = 2;</code>
+       */
+      public Builder setFederationExecutionNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        federationExecutionName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required .ohla.rti.proto.FDD fdd = 3;
+      private net.sf.ohla.rti.proto.OHLAProtos.FDD fdd_ = net.sf.ohla.rti.proto.OHLAProtos.FDD.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.FDD, net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder> fddBuilder_;
+      /**
+       * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+       */
+      public boolean hasFdd() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD getFdd() {
+        if (fddBuilder_ == null) {
+          return fdd_;
+        } else {
+          return fddBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+       */
+      public Builder setFdd(net.sf.ohla.rti.proto.OHLAProtos.FDD value) {
+        if (fddBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fdd_ = value;
+          onChanged();
+        } else {
+          fddBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+       */
+      public Builder setFdd(
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder builderForValue) {
+        if (fddBuilder_ == null) {
+          fdd_ = builderForValue.build();
+          onChanged();
+        } else {
+          fddBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+       */
+      public Builder mergeFdd(net.sf.ohla.rti.proto.OHLAProtos.FDD value) {
+        if (fddBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              fdd_ != net.sf.ohla.rti.proto.OHLAProtos.FDD.getDefaultInstance()) {
+            fdd_ =
+              net.sf.ohla.rti.proto.OHLAProtos.FDD.newBuilder(fdd_).mergeFrom(value).buildPartial();
+          } else {
+            fdd_ = value;
+          }
+          onChanged();
+        } else {
+          fddBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+       */
+      public Builder clearFdd() {
+        if (fddBuilder_ == null) {
+          fdd_ = net.sf.ohla.rti.proto.OHLAProtos.FDD.getDefaultInstance();
+          onChanged();
+        } else {
+          fddBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder getFddBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getFddFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder getFddOrBuilder() {
+        if (fddBuilder_ != null) {
+          return fddBuilder_.getMessageOrBuilder();
+        } else {
+          return fdd_;
+        }
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD fdd = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.FDD, net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder> 
+          getFddFieldBuilder() {
+        if (fddBuilder_ == null) {
+          fddBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              net.sf.ohla.rti.proto.OHLAProtos.FDD, net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder>(
+                  fdd_,
+                  getParentForChildren(),
+                  isClean());
+          fdd_ = null;
+        }
+        return fddBuilder_;
+      }
+
+      // required string logicalTimeImplementationName = 4;
+      private java.lang.Object logicalTimeImplementationName_ = "";
+      /**
+       * <code>required string logicalTimeImplementationName = 4;</code>
+       */
+      public boolean hasLogicalTimeImplementationName() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required string logicalTimeImplementationName = 4;</code>
+       */
+      public java.lang.String getLogicalTimeImplementationName() {
+        java.lang.Object ref = logicalTimeImplementationName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          logicalTimeImplementationName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string logicalTimeImplementationName = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLogicalTimeImplementationNameBytes() {
+        java.lang.Object ref = logicalTimeImplementationName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          logicalTimeImplementationName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string logicalTimeImplementationName = 4;</code>
+       */
+      public Builder setLogicalTimeImplementationName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        logicalTimeImplementationName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string logicalTimeImplementationName = 4;</code>
+       */
+      public Builder clearLogicalTimeImplementationName() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        logicalTimeImplementationName_ = getDefaultInstance().getLogicalTimeImplementationName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string logicalTimeImplementationName = 4;</code>
+       */
+      public Builder setLogicalTimeImplementationNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        logicalTimeImplementationName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.messages.proto.CreateFederationExecution)
+    }
+
+    static {
+      defaultInstance = new CreateFederationExecution(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.CreateFederationExecution)
+  }
+
+  public interface DestroyFederationExecutionOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint64 requestId = 1;
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    boolean hasRequestId();
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    long getRequestId();
+
+    // required string federationExecutionName = 2;
+    /**
+     * <code>required string federationExecutionName = 2;</code>
+     */
+    boolean hasFederationExecutionName();
+    /**
+     * <code>required string federationExecutionName = 2;</code>
+     */
+    java.lang.String getFederationExecutionName();
+    /**
+     * <code>required string federationExecutionName = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getFederationExecutionNameBytes();
+  }
+  /**
+   * Protobuf type {@code ohla.rti.messages.proto.DestroyFederationExecution}
+   */
+  public static final class DestroyFederationExecution extends
+      com.google.protobuf.GeneratedMessage
+      implements DestroyFederationExecutionOrBuilder {
+    // Use DestroyFederationExecution.newBuilder() to construct.
+    private DestroyFederationExecution(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private DestroyFederationExecution(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final DestroyFederationExecution defaultInstance;
+    public static DestroyFederationExecution getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public DestroyFederationExecution getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DestroyFederationExecution(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              requestId_ = input.readUInt64();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              federationExecutionName_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecution_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecution_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution.class, net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<DestroyFederationExecution> PARSER =
+        new com.google.protobuf.AbstractParser<DestroyFederationExecution>() {
+      public DestroyFederationExecution parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DestroyFederationExecution(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DestroyFederationExecution> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required uint64 requestId = 1;
+    public static final int REQUESTID_FIELD_NUMBER = 1;
+    private long requestId_;
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    public boolean hasRequestId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint64 requestId = 1;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
+    // required string federationExecutionName = 2;
+    public static final int FEDERATIONEXECUTIONNAME_FIELD_NUMBER = 2;
+    private java.lang.Object federationExecutionName_;
+    /**
+     * <code>required string federationExecutionName = 2;</code>
+     */
+    public boolean hasFederationExecutionName() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string federationExecutionName = 2;</code>
+     */
+    public java.lang.String getFederationExecutionName() {
+      java.lang.Object ref = federationExecutionName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          federationExecutionName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string federationExecutionName = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getFederationExecutionNameBytes() {
+      java.lang.Object ref = federationExecutionName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        federationExecutionName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      requestId_ = 0L;
+      federationExecutionName_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasRequestId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasFederationExecutionName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, requestId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getFederationExecutionNameBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, requestId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getFederationExecutionNameBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.messages.proto.DestroyFederationExecution}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecutionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecution_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecution_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution.class, net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        requestId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        federationExecutionName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_DestroyFederationExecution_descriptor;
+      }
+
+      public net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution getDefaultInstanceForType() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution build() {
+        net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution buildPartial() {
+        net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution result = new net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.requestId_ = requestId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.federationExecutionName_ = federationExecutionName_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution) {
+          return mergeFrom((net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution other) {
+        if (other == net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution.getDefaultInstance()) return this;
+        if (other.hasRequestId()) {
+          setRequestId(other.getRequestId());
+        }
+        if (other.hasFederationExecutionName()) {
+          bitField0_ |= 0x00000002;
+          federationExecutionName_ = other.federationExecutionName_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasRequestId()) {
+          
+          return false;
+        }
+        if (!hasFederationExecutionName()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.messages.proto.RTIMessageProtos.DestroyFederationExecution) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint64 requestId = 1;
+      private long requestId_ ;
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public boolean hasRequestId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public Builder setRequestId(long value) {
+        bitField0_ |= 0x00000001;
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint64 requestId = 1;</code>
+       */
+      public Builder clearRequestId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // required string federationExecutionName = 2;
+      private java.lang.Object federationExecutionName_ = "";
+      /**
+       * <code>required string federationExecutionName = 2;</code>
+       */
+      public boolean hasFederationExecutionName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string federationExecutionName = 2;</code>
+       */
+      public java.lang.String getFederationExecutionName() {
+        java.lang.Object ref = federationExecutionName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          federationExecutionName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string federationExecutionName = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFederationExecutionNameBytes() {
+        java.lang.Object ref = federationExecutionName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          federationExecutionName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string federationExecutionName = 2;</code>
+       */
+      public Builder setFederationExecutionName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        federationExecutionName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string federationExecutionName = 2;</code>
+       */
+      public Builder clearFederationExecutionName() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        federationExecutionName_ = getDefaultInstance().getFederationExecutionName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string federationExecutionName = 2;</code>
+       */
+      public Builder setFederationExecutionNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        federationExecutionName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.messages.proto.DestroyFederationExecution)
+    }
+
+    static {
+      defaultInstance = new DestroyFederationExecution(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.DestroyFederationExecution)
+  }
+
+  public interface JoinFederationExecutionOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional string federateName = 1;
+    /**
+     * <code>optional string federateName = 1;</code>
+     */
+    boolean hasFederateName();
+    /**
+     * <code>optional string federateName = 1;</code>
+     */
+    java.lang.String getFederateName();
+    /**
+     * <code>optional string federateName = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getFederateNameBytes();
+
+    // required string federateType = 2;
+    /**
+     * <code>required string federateType = 2;</code>
+     */
+    boolean hasFederateType();
+    /**
+     * <code>required string federateType = 2;</code>
+     */
+    java.lang.String getFederateType();
+    /**
+     * <code>required string federateType = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getFederateTypeBytes();
+
+    // required string federationExecutionName = 3;
+    /**
+     * <code>required string federationExecutionName = 3;</code>
+     */
+    boolean hasFederationExecutionName();
+    /**
+     * <code>required string federationExecutionName = 3;</code>
+     */
+    java.lang.String getFederationExecutionName();
+    /**
+     * <code>required string federationExecutionName = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getFederationExecutionNameBytes();
+
+    // repeated .ohla.rti.proto.FDD additionalFDDs = 4;
+    /**
+     * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+     */
+    java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD> 
+        getAdditionalFDDsList();
+    /**
+     * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.FDD getAdditionalFDDs(int index);
+    /**
+     * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+     */
+    int getAdditionalFDDsCount();
+    /**
+     * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+     */
+    java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder> 
+        getAdditionalFDDsOrBuilderList();
+    /**
+     * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder getAdditionalFDDsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code ohla.rti.messages.proto.JoinFederationExecution}
+   */
+  public static final class JoinFederationExecution extends
+      com.google.protobuf.GeneratedMessage
+      implements JoinFederationExecutionOrBuilder {
+    // Use JoinFederationExecution.newBuilder() to construct.
+    private JoinFederationExecution(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private JoinFederationExecution(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final JoinFederationExecution defaultInstance;
+    public static JoinFederationExecution getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public JoinFederationExecution getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private JoinFederationExecution(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              federateName_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              federateType_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              federationExecutionName_ = input.readBytes();
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                additionalFDDs_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.FDD>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              additionalFDDs_.add(input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.FDD.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          additionalFDDs_ = java.util.Collections.unmodifiableList(additionalFDDs_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_JoinFederationExecution_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_JoinFederationExecution_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution.class, net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<JoinFederationExecution> PARSER =
+        new com.google.protobuf.AbstractParser<JoinFederationExecution>() {
+      public JoinFederationExecution parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new JoinFederationExecution(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<JoinFederationExecution> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional string federateName = 1;
+    public static final int FEDERATENAME_FIELD_NUMBER = 1;
+    private java.lang.Object federateName_;
+    /**
+     * <code>optional string federateName = 1;</code>
+     */
+    public boolean hasFederateName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string federateName = 1;</code>
+     */
+    public java.lang.String getFederateName() {
+      java.lang.Object ref = federateName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          federateName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string federateName = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getFederateNameBytes() {
+      java.lang.Object ref = federateName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        federateName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required string federateType = 2;
+    public static final int FEDERATETYPE_FIELD_NUMBER = 2;
+    private java.lang.Object federateType_;
+    /**
+     * <code>required string federateType = 2;</code>
+     */
+    public boolean hasFederateType() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string federateType = 2;</code>
+     */
+    public java.lang.String getFederateType() {
+      java.lang.Object ref = federateType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          federateType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string federateType = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getFederateTypeBytes() {
+      java.lang.Object ref = federateType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        federateType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required string federationExecutionName = 3;
+    public static final int FEDERATIONEXECUTIONNAME_FIELD_NUMBER = 3;
+    private java.lang.Object federationExecutionName_;
+    /**
+     * <code>required string federationExecutionName = 3;</code>
+     */
+    public boolean hasFederationExecutionName() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required string federationExecutionName = 3;</code>
+     */
+    public java.lang.String getFederationExecutionName() {
+      java.lang.Object ref = federationExecutionName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          federationExecutionName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string federationExecutionName = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getFederationExecutionNameBytes() {
+      java.lang.Object ref = federationExecutionName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        federationExecutionName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // repeated .ohla.rti.proto.FDD additionalFDDs = 4;
+    public static final int ADDITIONALFDDS_FIELD_NUMBER = 4;
+    private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD> additionalFDDs_;
+    /**
+     * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+     */
+    public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD> getAdditionalFDDsList() {
+      return additionalFDDs_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+     */
+    public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder> 
+        getAdditionalFDDsOrBuilderList() {
+      return additionalFDDs_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+     */
+    public int getAdditionalFDDsCount() {
+      return additionalFDDs_.size();
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.FDD getAdditionalFDDs(int index) {
+      return additionalFDDs_.get(index);
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder getAdditionalFDDsOrBuilder(
+        int index) {
+      return additionalFDDs_.get(index);
+    }
+
+    private void initFields() {
+      federateName_ = "";
+      federateType_ = "";
+      federationExecutionName_ = "";
+      additionalFDDs_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasFederateType()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasFederationExecutionName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getAdditionalFDDsCount(); i++) {
+        if (!getAdditionalFDDs(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getFederateNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getFederateTypeBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getFederationExecutionNameBytes());
+      }
+      for (int i = 0; i < additionalFDDs_.size(); i++) {
+        output.writeMessage(4, additionalFDDs_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getFederateNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getFederateTypeBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getFederationExecutionNameBytes());
+      }
+      for (int i = 0; i < additionalFDDs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, additionalFDDs_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.messages.proto.JoinFederationExecution}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecutionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_JoinFederationExecution_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_JoinFederationExecution_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution.class, net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getAdditionalFDDsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        federateName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        federateType_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        federationExecutionName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (additionalFDDsBuilder_ == null) {
+          additionalFDDs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          additionalFDDsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_JoinFederationExecution_descriptor;
+      }
+
+      public net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution getDefaultInstanceForType() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution build() {
+        net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution buildPartial() {
+        net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution result = new net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.federateName_ = federateName_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.federateType_ = federateType_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.federationExecutionName_ = federationExecutionName_;
+        if (additionalFDDsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            additionalFDDs_ = java.util.Collections.unmodifiableList(additionalFDDs_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.additionalFDDs_ = additionalFDDs_;
+        } else {
+          result.additionalFDDs_ = additionalFDDsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution) {
+          return mergeFrom((net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution other) {
+        if (other == net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution.getDefaultInstance()) return this;
+        if (other.hasFederateName()) {
+          bitField0_ |= 0x00000001;
+          federateName_ = other.federateName_;
+          onChanged();
+        }
+        if (other.hasFederateType()) {
+          bitField0_ |= 0x00000002;
+          federateType_ = other.federateType_;
+          onChanged();
+        }
+        if (other.hasFederationExecutionName()) {
+          bitField0_ |= 0x00000004;
+          federationExecutionName_ = other.federationExecutionName_;
+          onChanged();
+        }
+        if (additionalFDDsBuilder_ == null) {
+          if (!other.additionalFDDs_.isEmpty()) {
+            if (additionalFDDs_.isEmpty()) {
+              additionalFDDs_ = other.additionalFDDs_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureAdditionalFDDsIsMutable();
+              additionalFDDs_.addAll(other.additionalFDDs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.additionalFDDs_.isEmpty()) {
+            if (additionalFDDsBuilder_.isEmpty()) {
+              additionalFDDsBuilder_.dispose();
+              additionalFDDsBuilder_ = null;
+              additionalFDDs_ = other.additionalFDDs_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              additionalFDDsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getAdditionalFDDsFieldBuilder() : null;
+            } else {
+              additionalFDDsBuilder_.addAllMessages(other.additionalFDDs_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasFederateType()) {
+          
+          return false;
+        }
+        if (!hasFederationExecutionName()) {
+          
+          return false;
+        }
+        for (int i = 0; i < getAdditionalFDDsCount(); i++) {
+          if (!getAdditionalFDDs(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.messages.proto.RTIMessageProtos.JoinFederationExecution) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional string federateName = 1;
+      private java.lang.Object federateName_ = "";
+      /**
+       * <code>optional string federateName = 1;</code>
+       */
+      public boolean hasFederateName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string federateName = 1;</code>
+       */
+      public java.lang.String getFederateName() {
+        java.lang.Object ref = federateName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          federateName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string federateName = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFederateNameBytes() {
+        java.lang.Object ref = federateName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          federateName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string federateName = 1;</code>
+       */
+      public Builder setFederateName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        federateName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string federateName = 1;</code>
+       */
+      public Builder clearFederateName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        federateName_ = getDefaultInstance().getFederateName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string federateName = 1;</code>
+       */
+      public Builder setFederateNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        federateName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required string federateType = 2;
+      private java.lang.Object federateType_ = "";
+      /**
+       * <code>required string federateType = 2;</code>
+       */
+      public boolean hasFederateType() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string federateType = 2;</code>
+       */
+      public java.lang.String getFederateType() {
+        java.lang.Object ref = federateType_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          federateType_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string federateType = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFederateTypeBytes() {
+        java.lang.Object ref = federateType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          federateType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string federateType = 2;</code>
+       */
+      public Builder setFederateType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        federateType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string federateType = 2;</code>
+       */
+      public Builder clearFederateType() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        federateType_ = getDefaultInstance().getFederateType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string federateType = 2;</code>
+       */
+      public Builder setFederateTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        federateType_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required string federationExecutionName = 3;
+      private java.lang.Object federationExecutionName_ = "";
+      /**
+       * <code>required string federationExecutionName = 3;</code>
+       */
+      public boolean hasFederationExecutionName() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required string federationExecutionName = 3;</code>
+       */
+      public java.lang.String getFederationExecutionName() {
+        java.lang.Object ref = federationExecutionName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          federationExecutionName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string federationExecutionName = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFederationExecutionNameBytes() {
+        java.lang.Object ref = federationExecutionName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          federationExecutionName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string federationExecutionName = 3;</code>
+       */
+      public Builder setFederationExecutionName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        federationExecutionName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string federationExecutionName = 3;</code>
+       */
+      public Builder clearFederationExecutionName() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        federationExecutionName_ = getDefaultInstance().getFederationExecutionName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string federationExecutionName = 3;</code>
+       */
+      public Builder setFederationExecutionNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        federationExecutionName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // repeated .ohla.rti.proto.FDD additionalFDDs = 4;
+      private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD> additionalFDDs_ =
+        java.util.Collections.emptyList();
+      private void ensureAdditionalFDDsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          additionalFDDs_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.FDD>(additionalFDDs_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.FDD, net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder> additionalFDDsBuilder_;
+
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD> getAdditionalFDDsList() {
+        if (additionalFDDsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(additionalFDDs_);
+        } else {
+          return additionalFDDsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public int getAdditionalFDDsCount() {
+        if (additionalFDDsBuilder_ == null) {
+          return additionalFDDs_.size();
+        } else {
+          return additionalFDDsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD getAdditionalFDDs(int index) {
+        if (additionalFDDsBuilder_ == null) {
+          return additionalFDDs_.get(index);
+        } else {
+          return additionalFDDsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public Builder setAdditionalFDDs(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD value) {
+        if (additionalFDDsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAdditionalFDDsIsMutable();
+          additionalFDDs_.set(index, value);
+          onChanged();
+        } else {
+          additionalFDDsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public Builder setAdditionalFDDs(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder builderForValue) {
+        if (additionalFDDsBuilder_ == null) {
+          ensureAdditionalFDDsIsMutable();
+          additionalFDDs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          additionalFDDsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public Builder addAdditionalFDDs(net.sf.ohla.rti.proto.OHLAProtos.FDD value) {
+        if (additionalFDDsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAdditionalFDDsIsMutable();
+          additionalFDDs_.add(value);
+          onChanged();
+        } else {
+          additionalFDDsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public Builder addAdditionalFDDs(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD value) {
+        if (additionalFDDsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAdditionalFDDsIsMutable();
+          additionalFDDs_.add(index, value);
+          onChanged();
+        } else {
+          additionalFDDsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public Builder addAdditionalFDDs(
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder builderForValue) {
+        if (additionalFDDsBuilder_ == null) {
+          ensureAdditionalFDDsIsMutable();
+          additionalFDDs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          additionalFDDsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public Builder addAdditionalFDDs(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder builderForValue) {
+        if (additionalFDDsBuilder_ == null) {
+          ensureAdditionalFDDsIsMutable();
+          additionalFDDs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          additionalFDDsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public Builder addAllAdditionalFDDs(
+          java.lang.Iterable<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD> values) {
+        if (additionalFDDsBuilder_ == null) {
+          ensureAdditionalFDDsIsMutable();
+          super.addAll(values, additionalFDDs_);
+          onChanged();
+        } else {
+          additionalFDDsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public Builder clearAdditionalFDDs() {
+        if (additionalFDDsBuilder_ == null) {
+          additionalFDDs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          additionalFDDsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public Builder removeAdditionalFDDs(int index) {
+        if (additionalFDDsBuilder_ == null) {
+          ensureAdditionalFDDsIsMutable();
+          additionalFDDs_.remove(index);
+          onChanged();
+        } else {
+          additionalFDDsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder getAdditionalFDDsBuilder(
+          int index) {
+        return getAdditionalFDDsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder getAdditionalFDDsOrBuilder(
+          int index) {
+        if (additionalFDDsBuilder_ == null) {
+          return additionalFDDs_.get(index);  } else {
+          return additionalFDDsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder> 
+           getAdditionalFDDsOrBuilderList() {
+        if (additionalFDDsBuilder_ != null) {
+          return additionalFDDsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(additionalFDDs_);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder addAdditionalFDDsBuilder() {
+        return getAdditionalFDDsFieldBuilder().addBuilder(
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder addAdditionalFDDsBuilder(
+          int index) {
+        return getAdditionalFDDsFieldBuilder().addBuilder(
+            index, net.sf.ohla.rti.proto.OHLAProtos.FDD.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD additionalFDDs = 4;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder> 
+           getAdditionalFDDsBuilderList() {
+        return getAdditionalFDDsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.FDD, net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder> 
+          getAdditionalFDDsFieldBuilder() {
+        if (additionalFDDsBuilder_ == null) {
+          additionalFDDsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              net.sf.ohla.rti.proto.OHLAProtos.FDD, net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder>(
+                  additionalFDDs_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          additionalFDDs_ = null;
+        }
+        return additionalFDDsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.messages.proto.JoinFederationExecution)
+    }
+
+    static {
+      defaultInstance = new JoinFederationExecution(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.JoinFederationExecution)
+  }
+
+  public interface ListFederationExecutionsOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * Protobuf type {@code ohla.rti.messages.proto.ListFederationExecutions}
+   */
+  public static final class ListFederationExecutions extends
+      com.google.protobuf.GeneratedMessage
+      implements ListFederationExecutionsOrBuilder {
+    // Use ListFederationExecutions.newBuilder() to construct.
+    private ListFederationExecutions(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ListFederationExecutions(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final ListFederationExecutions defaultInstance;
+    public static ListFederationExecutions getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ListFederationExecutions getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ListFederationExecutions(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_ListFederationExecutions_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_ListFederationExecutions_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions.class, net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ListFederationExecutions> PARSER =
+        new com.google.protobuf.AbstractParser<ListFederationExecutions>() {
+      public ListFederationExecutions parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ListFederationExecutions(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ListFederationExecutions> getParserForType() {
+      return PARSER;
+    }
+
+    private void initFields() {
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.messages.proto.ListFederationExecutions}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutionsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_ListFederationExecutions_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_ListFederationExecutions_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions.class, net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.internal_static_ohla_rti_messages_proto_ListFederationExecutions_descriptor;
+      }
+
+      public net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions getDefaultInstanceForType() {
+        return net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions build() {
+        net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions buildPartial() {
+        net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions result = new net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions(this);
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions) {
+          return mergeFrom((net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions other) {
+        if (other == net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.messages.proto.RTIMessageProtos.ListFederationExecutions) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.messages.proto.ListFederationExecutions)
+    }
+
+    static {
+      defaultInstance = new ListFederationExecutions(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.messages.proto.ListFederationExecutions)
+  }
+
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_messages_proto_CreateFederationExecution_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_messages_proto_CreateFederationExecution_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_messages_proto_DestroyFederationExecution_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_messages_proto_DestroyFederationExecution_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_messages_proto_JoinFederationExecution_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_messages_proto_JoinFederationExecution_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_messages_proto_ListFederationExecutions_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_messages_proto_ListFederationExecutions_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\026RTIMessageProtos.proto\022\027ohla.rti.messa" +
+      "ges.proto\032\020OHLAProtos.proto\032\023MessageProt" +
+      "os.proto\"\230\001\n\031CreateFederationExecution\022\021" +
+      "\n\trequestId\030\001 \002(\004\022\037\n\027federationExecution" +
+      "Name\030\002 \002(\t\022 \n\003fdd\030\003 \002(\0132\023.ohla.rti.proto" +
+      ".FDD\022%\n\035logicalTimeImplementationName\030\004 " +
+      "\002(\t\"P\n\032DestroyFederationExecution\022\021\n\treq" +
+      "uestId\030\001 \002(\004\022\037\n\027federationExecutionName\030" +
+      "\002 \002(\t\"\223\001\n\027JoinFederationExecution\022\024\n\014fed" +
+      "erateName\030\001 \001(\t\022\024\n\014federateType\030\002 \002(\t\022\037\n",
+      "\027federationExecutionName\030\003 \002(\t\022+\n\016additi" +
+      "onalFDDs\030\004 \003(\0132\023.ohla.rti.proto.FDD\"\032\n\030L" +
+      "istFederationExecutionsB \n\036net.sf.ohla.r" +
+      "ti.messages.proto"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+      new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
+        public com.google.protobuf.ExtensionRegistry assignDescriptors(
+            com.google.protobuf.Descriptors.FileDescriptor root) {
+          descriptor = root;
+          internal_static_ohla_rti_messages_proto_CreateFederationExecution_descriptor =
+            getDescriptor().getMessageTypes().get(0);
+          internal_static_ohla_rti_messages_proto_CreateFederationExecution_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_messages_proto_CreateFederationExecution_descriptor,
+              new java.lang.String[] { "RequestId", "FederationExecutionName", "Fdd", "LogicalTimeImplementationName", });
+          internal_static_ohla_rti_messages_proto_DestroyFederationExecution_descriptor =
+            getDescriptor().getMessageTypes().get(1);
+          internal_static_ohla_rti_messages_proto_DestroyFederationExecution_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_messages_proto_DestroyFederationExecution_descriptor,
+              new java.lang.String[] { "RequestId", "FederationExecutionName", });
+          internal_static_ohla_rti_messages_proto_JoinFederationExecution_descriptor =
+            getDescriptor().getMessageTypes().get(2);
+          internal_static_ohla_rti_messages_proto_JoinFederationExecution_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_messages_proto_JoinFederationExecution_descriptor,
+              new java.lang.String[] { "FederateName", "FederateType", "FederationExecutionName", "AdditionalFDDs", });
+          internal_static_ohla_rti_messages_proto_ListFederationExecutions_descriptor =
+            getDescriptor().getMessageTypes().get(3);
+          internal_static_ohla_rti_messages_proto_ListFederationExecutions_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_messages_proto_ListFederationExecutions_descriptor,
+              new java.lang.String[] { });
+          return null;
+        }
+      };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          net.sf.ohla.rti.proto.OHLAProtos.getDescriptor(),
+          net.sf.ohla.rti.messages.proto.MessageProtos.getDescriptor(),
+        }, assigner);
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,15720 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: OHLAProtos.proto
+
+package net.sf.ohla.rti.proto;
+
+public final class OHLAProtos {
+  private OHLAProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+  }
+  /**
+   * Protobuf enum {@code ohla.rti.proto.AdvanceRequestType}
+   */
+  public enum AdvanceRequestType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>NONE = 1;</code>
+     */
+    NONE(0, 1),
+    /**
+     * <code>TIME_ADVANCE_REQUEST = 2;</code>
+     */
+    TIME_ADVANCE_REQUEST(1, 2),
+    /**
+     * <code>TIME_ADVANCE_REQUEST_AVAILABLE = 3;</code>
+     */
+    TIME_ADVANCE_REQUEST_AVAILABLE(2, 3),
+    /**
+     * <code>NEXT_MESSAGE_REQUEST = 4;</code>
+     */
+    NEXT_MESSAGE_REQUEST(3, 4),
+    /**
+     * <code>NEXT_MESSAGE_REQUEST_AVAILABLE = 5;</code>
+     */
+    NEXT_MESSAGE_REQUEST_AVAILABLE(4, 5),
+    /**
+     * <code>FLUSH_QUEUE_REQUEST = 6;</code>
+     */
+    FLUSH_QUEUE_REQUEST(5, 6),
+    ;
+
+    /**
+     * <code>NONE = 1;</code>
+     */
+    public static final int NONE_VALUE = 1;
+    /**
+     * <code>TIME_ADVANCE_REQUEST = 2;</code>
+     */
+    public static final int TIME_ADVANCE_REQUEST_VALUE = 2;
+    /**
+     * <code>TIME_ADVANCE_REQUEST_AVAILABLE = 3;</code>
+     */
+    public static final int TIME_ADVANCE_REQUEST_AVAILABLE_VALUE = 3;
+    /**
+     * <code>NEXT_MESSAGE_REQUEST = 4;</code>
+     */
+    public static final int NEXT_MESSAGE_REQUEST_VALUE = 4;
+    /**
+     * <code>NEXT_MESSAGE_REQUEST_AVAILABLE = 5;</code>
+     */
+    public static final int NEXT_MESSAGE_REQUEST_AVAILABLE_VALUE = 5;
+    /**
+     * <code>FLUSH_QUEUE_REQUEST = 6;</code>
+     */
+    public static final int FLUSH_QUEUE_REQUEST_VALUE = 6;
+
+
+    public final int getNumber() { return value; }
+
+    public static AdvanceRequestType valueOf(int value) {
+      switch (value) {
+        case 1: return NONE;
+        case 2: return TIME_ADVANCE_REQUEST;
+        case 3: return TIME_ADVANCE_REQUEST_AVAILABLE;
+        case 4: return NEXT_MESSAGE_REQUEST;
+        case 5: return NEXT_MESSAGE_REQUEST_AVAILABLE;
+        case 6: return FLUSH_QUEUE_REQUEST;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<AdvanceRequestType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<AdvanceRequestType>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<AdvanceRequestType>() {
+            public AdvanceRequestType findValueByNumber(int number) {
+              return AdvanceRequestType.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.proto.OHLAProtos.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final AdvanceRequestType[] VALUES = values();
+
+    public static AdvanceRequestType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private AdvanceRequestType(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:ohla.rti.proto.AdvanceRequestType)
+  }
+
+  /**
+   * Protobuf enum {@code ohla.rti.proto.OrderType}
+   */
+  public enum OrderType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>RECEIVE = 1;</code>
+     */
+    RECEIVE(0, 1),
+    /**
+     * <code>TIMESTAMP = 2;</code>
+     */
+    TIMESTAMP(1, 2),
+    ;
+
+    /**
+     * <code>RECEIVE = 1;</code>
+     */
+    public static final int RECEIVE_VALUE = 1;
+    /**
+     * <code>TIMESTAMP = 2;</code>
+     */
+    public static final int TIMESTAMP_VALUE = 2;
+
+
+    public final int getNumber() { return value; }
+
+    public static OrderType valueOf(int value) {
+      switch (value) {
+        case 1: return RECEIVE;
+        case 2: return TIMESTAMP;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<OrderType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<OrderType>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<OrderType>() {
+            public OrderType findValueByNumber(int number) {
+              return OrderType.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.proto.OHLAProtos.getDescriptor().getEnumTypes().get(1);
+    }
+
+    private static final OrderType[] VALUES = values();
+
+    public static OrderType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private OrderType(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:ohla.rti.proto.OrderType)
+  }
+
+  /**
+   * Protobuf enum {@code ohla.rti.proto.ResignAction}
+   */
+  public enum ResignAction
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>UNCONDITIONALLY_DIVEST_ATTRIBUTES = 1;</code>
+     */
+    UNCONDITIONALLY_DIVEST_ATTRIBUTES(0, 1),
+    /**
+     * <code>DELETE_OBJECTS = 2;</code>
+     */
+    DELETE_OBJECTS(1, 2),
+    /**
+     * <code>CANCEL_PENDING_OWNERSHIP_ACQUISITIONS = 3;</code>
+     */
+    CANCEL_PENDING_OWNERSHIP_ACQUISITIONS(2, 3),
+    /**
+     * <code>DELETE_OBJECTS_THEN_DIVEST = 4;</code>
+     */
+    DELETE_OBJECTS_THEN_DIVEST(3, 4),
+    /**
+     * <code>CANCEL_THEN_DELETE_THEN_DIVEST = 5;</code>
+     */
+    CANCEL_THEN_DELETE_THEN_DIVEST(4, 5),
+    /**
+     * <code>NO_ACTION = 6;</code>
+     */
+    NO_ACTION(5, 6),
+    ;
+
+    /**
+     * <code>UNCONDITIONALLY_DIVEST_ATTRIBUTES = 1;</code>
+     */
+    public static final int UNCONDITIONALLY_DIVEST_ATTRIBUTES_VALUE = 1;
+    /**
+     * <code>DELETE_OBJECTS = 2;</code>
+     */
+    public static final int DELETE_OBJECTS_VALUE = 2;
+    /**
+     * <code>CANCEL_PENDING_OWNERSHIP_ACQUISITIONS = 3;</code>
+     */
+    public static final int CANCEL_PENDING_OWNERSHIP_ACQUISITIONS_VALUE = 3;
+    /**
+     * <code>DELETE_OBJECTS_THEN_DIVEST = 4;</code>
+     */
+    public static final int DELETE_OBJECTS_THEN_DIVEST_VALUE = 4;
+    /**
+     * <code>CANCEL_THEN_DELETE_THEN_DIVEST = 5;</code>
+     */
+    public static final int CANCEL_THEN_DELETE_THEN_DIVEST_VALUE = 5;
+    /**
+     * <code>NO_ACTION = 6;</code>
+     */
+    public static final int NO_ACTION_VALUE = 6;
+
+
+    public final int getNumber() { return value; }
+
+    public static ResignAction valueOf(int value) {
+      switch (value) {
+        case 1: return UNCONDITIONALLY_DIVEST_ATTRIBUTES;
+        case 2: return DELETE_OBJECTS;
+        case 3: return CANCEL_PENDING_OWNERSHIP_ACQUISITIONS;
+        case 4: return DELETE_OBJECTS_THEN_DIVEST;
+        case 5: return CANCEL_THEN_DELETE_THEN_DIVEST;
+        case 6: return NO_ACTION;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<ResignAction>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<ResignAction>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ResignAction>() {
+            public ResignAction findValueByNumber(int number) {
+              return ResignAction.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.proto.OHLAProtos.getDescriptor().getEnumTypes().get(2);
+    }
+
+    private static final ResignAction[] VALUES = values();
+
+    public static ResignAction valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private ResignAction(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:ohla.rti.proto.ResignAction)
+  }
+
+  public interface MessageRetractionHandleOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint32 federateHandle = 1;
+    /**
+     * <code>required uint32 federateHandle = 1;</code>
+     */
+    boolean hasFederateHandle();
+    /**
+     * <code>required uint32 federateHandle = 1;</code>
+     */
+    int getFederateHandle();
+
+    // required uint64 messageRetractionHandle = 2;
+    /**
+     * <code>required uint64 messageRetractionHandle = 2;</code>
+     */
+    boolean hasMessageRetractionHandle();
+    /**
+     * <code>required uint64 messageRetractionHandle = 2;</code>
+     */
+    long getMessageRetractionHandle();
+  }
+  /**
+   * Protobuf type {@code ohla.rti.proto.MessageRetractionHandle}
+   */
+  public static final class MessageRetractionHandle extends
+      com.google.protobuf.GeneratedMessage
+      implements MessageRetractionHandleOrBuilder {
+    // Use MessageRetractionHandle.newBuilder() to construct.
+    private MessageRetractionHandle(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private MessageRetractionHandle(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final MessageRetractionHandle defaultInstance;
+    public static MessageRetractionHandle getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public MessageRetractionHandle getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private MessageRetractionHandle(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              federateHandle_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              messageRetractionHandle_ = input.readUInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_MessageRetractionHandle_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_MessageRetractionHandle_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle.class, net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<MessageRetractionHandle> PARSER =
+        new com.google.protobuf.AbstractParser<MessageRetractionHandle>() {
+      public MessageRetractionHandle parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new MessageRetractionHandle(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<MessageRetractionHandle> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required uint32 federateHandle = 1;
+    public static final int FEDERATEHANDLE_FIELD_NUMBER = 1;
+    private int federateHandle_;
+    /**
+     * <code>required uint32 federateHandle = 1;</code>
+     */
+    public boolean hasFederateHandle() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint32 federateHandle = 1;</code>
+     */
+    public int getFederateHandle() {
+      return federateHandle_;
+    }
+
+    // required uint64 messageRetractionHandle = 2;
+    public static final int MESSAGERETRACTIONHANDLE_FIELD_NUMBER = 2;
+    private long messageRetractionHandle_;
+    /**
+     * <code>required uint64 messageRetractionHandle = 2;</code>
+     */
+    public boolean hasMessageRetractionHandle() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required uint64 messageRetractionHandle = 2;</code>
+     */
+    public long getMessageRetractionHandle() {
+      return messageRetractionHandle_;
+    }
+
+    private void initFields() {
+      federateHandle_ = 0;
+      messageRetractionHandle_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasFederateHandle()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasMessageRetractionHandle()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, federateHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt64(2, messageRetractionHandle_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, federateHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, messageRetractionHandle_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.MessageRetractionHandle}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandleOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_MessageRetractionHandle_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_MessageRetractionHandle_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle.class, net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        federateHandle_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        messageRetractionHandle_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_MessageRetractionHandle_descriptor;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle getDefaultInstanceForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle build() {
+        net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle buildPartial() {
+        net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle result = new net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.federateHandle_ = federateHandle_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.messageRetractionHandle_ = messageRetractionHandle_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle) {
+          return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle other) {
+        if (other == net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle.getDefaultInstance()) return this;
+        if (other.hasFederateHandle()) {
+          setFederateHandle(other.getFederateHandle());
+        }
+        if (other.hasMessageRetractionHandle()) {
+          setMessageRetractionHandle(other.getMessageRetractionHandle());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasFederateHandle()) {
+          
+          return false;
+        }
+        if (!hasMessageRetractionHandle()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.MessageRetractionHandle) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint32 federateHandle = 1;
+      private int federateHandle_ ;
+      /**
+       * <code>required uint32 federateHandle = 1;</code>
+       */
+      public boolean hasFederateHandle() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 federateHandle = 1;</code>
+       */
+      public int getFederateHandle() {
+        return federateHandle_;
+      }
+      /**
+       * <code>required uint32 federateHandle = 1;</code>
+       */
+      public Builder setFederateHandle(int value) {
+        bitField0_ |= 0x00000001;
+        federateHandle_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 federateHandle = 1;</code>
+       */
+      public Builder clearFederateHandle() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        federateHandle_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required uint64 messageRetractionHandle = 2;
+      private long messageRetractionHandle_ ;
+      /**
+       * <code>required uint64 messageRetractionHandle = 2;</code>
+       */
+      public boolean hasMessageRetractionHandle() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required uint64 messageRetractionHandle = 2;</code>
+       */
+      public long getMessageRetractionHandle() {
+        return messageRetractionHandle_;
+      }
+      /**
+       * <code>required uint64 messageRetractionHandle = 2;</code>
+       */
+      public Builder setMessageRetractionHandle(long value) {
+        bitField0_ |= 0x00000002;
+        messageRetractionHandle_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint64 messageRetractionHandle = 2;</code>
+       */
+      public Builder clearMessageRetractionHandle() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        messageRetractionHandle_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.proto.MessageRetractionHandle)
+    }
+
+    static {
+      defaultInstance = new MessageRetractionHandle(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.proto.MessageRetractionHandle)
+  }
+
+  public interface ObjectInstanceHandleOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint32 federateHandle = 1;
+    /**
+     * <code>required uint32 federateHandle = 1;</code>
+     */
+    boolean hasFederateHandle();
+    /**
+     * <code>required uint32 federateHandle = 1;</code>
+     */
+    int getFederateHandle();
+
+    // required uint64 objectInstanceHandle = 2;
+    /**
+     * <code>required uint64 objectInstanceHandle = 2;</code>
+     */
+    boolean hasObjectInstanceHandle();
+    /**
+     * <code>required uint64 objectInstanceHandle = 2;</code>
+     */
+    long getObjectInstanceHandle();
+  }
+  /**
+   * Protobuf type {@code ohla.rti.proto.ObjectInstanceHandle}
+   */
+  public static final class ObjectInstanceHandle extends
+      com.google.protobuf.GeneratedMessage
+      implements ObjectInstanceHandleOrBuilder {
+    // Use ObjectInstanceHandle.newBuilder() to construct.
+    private ObjectInstanceHandle(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ObjectInstanceHandle(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final ObjectInstanceHandle defaultInstance;
+    public static ObjectInstanceHandle getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ObjectInstanceHandle getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ObjectInstanceHandle(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              federateHandle_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              objectInstanceHandle_ = input.readUInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_ObjectInstanceHandle_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_ObjectInstanceHandle_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle.class, net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ObjectInstanceHandle> PARSER =
+        new com.google.protobuf.AbstractParser<ObjectInstanceHandle>() {
+      public ObjectInstanceHandle parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ObjectInstanceHandle(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ObjectInstanceHandle> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required uint32 federateHandle = 1;
+    public static final int FEDERATEHANDLE_FIELD_NUMBER = 1;
+    private int federateHandle_;
+    /**
+     * <code>required uint32 federateHandle = 1;</code>
+     */
+    public boolean hasFederateHandle() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint32 federateHandle = 1;</code>
+     */
+    public int getFederateHandle() {
+      return federateHandle_;
+    }
+
+    // required uint64 objectInstanceHandle = 2;
+    public static final int OBJECTINSTANCEHANDLE_FIELD_NUMBER = 2;
+    private long objectInstanceHandle_;
+    /**
+     * <code>required uint64 objectInstanceHandle = 2;</code>
+     */
+    public boolean hasObjectInstanceHandle() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required uint64 objectInstanceHandle = 2;</code>
+     */
+    public long getObjectInstanceHandle() {
+      return objectInstanceHandle_;
+    }
+
+    private void initFields() {
+      federateHandle_ = 0;
+      objectInstanceHandle_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasFederateHandle()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasObjectInstanceHandle()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, federateHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt64(2, objectInstanceHandle_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, federateHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, objectInstanceHandle_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.ObjectInstanceHandle}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandleOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_ObjectInstanceHandle_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_ObjectInstanceHandle_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle.class, net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        federateHandle_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        objectInstanceHandle_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_ObjectInstanceHandle_descriptor;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle getDefaultInstanceForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle build() {
+        net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle buildPartial() {
+        net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle result = new net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.federateHandle_ = federateHandle_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.objectInstanceHandle_ = objectInstanceHandle_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle) {
+          return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle other) {
+        if (other == net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle.getDefaultInstance()) return this;
+        if (other.hasFederateHandle()) {
+          setFederateHandle(other.getFederateHandle());
+        }
+        if (other.hasObjectInstanceHandle()) {
+          setObjectInstanceHandle(other.getObjectInstanceHandle());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasFederateHandle()) {
+          
+          return false;
+        }
+        if (!hasObjectInstanceHandle()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.ObjectInstanceHandle) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint32 federateHandle = 1;
+      private int federateHandle_ ;
+      /**
+       * <code>required uint32 federateHandle = 1;</code>
+       */
+      public boolean hasFederateHandle() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 federateHandle = 1;</code>
+       */
+      public int getFederateHandle() {
+        return federateHandle_;
+      }
+      /**
+       * <code>required uint32 federateHandle = 1;</code>
+       */
+      public Builder setFederateHandle(int value) {
+        bitField0_ |= 0x00000001;
+        federateHandle_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 federateHandle = 1;</code>
+       */
+      public Builder clearFederateHandle() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        federateHandle_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required uint64 objectInstanceHandle = 2;
+      private long objectInstanceHandle_ ;
+      /**
+       * <code>required uint64 objectInstanceHandle = 2;</code>
+       */
+      public boolean hasObjectInstanceHandle() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required uint64 objectInstanceHandle = 2;</code>
+       */
+      public long getObjectInstanceHandle() {
+        return objectInstanceHandle_;
+      }
+      /**
+       * <code>required uint64 objectInstanceHandle = 2;</code>
+       */
+      public Builder setObjectInstanceHandle(long value) {
+        bitField0_ |= 0x00000002;
+        objectInstanceHandle_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint64 objectInstanceHandle = 2;</code>
+       */
+      public Builder clearObjectInstanceHandle() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        objectInstanceHandle_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.proto.ObjectInstanceHandle)
+    }
+
+    static {
+      defaultInstance = new ObjectInstanceHandle(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.proto.ObjectInstanceHandle)
+  }
+
+  public interface RegionHandleOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint32 federateHandle = 1;
+    /**
+     * <code>required uint32 federateHandle = 1;</code>
+     */
+    boolean hasFederateHandle();
+    /**
+     * <code>required uint32 federateHandle = 1;</code>
+     */
+    int getFederateHandle();
+
+    // required uint32 regionHandle = 2;
+    /**
+     * <code>required uint32 regionHandle = 2;</code>
+     */
+    boolean hasRegionHandle();
+    /**
+     * <code>required uint32 regionHandle = 2;</code>
+     */
+    int getRegionHandle();
+  }
+  /**
+   * Protobuf type {@code ohla.rti.proto.RegionHandle}
+   */
+  public static final class RegionHandle extends
+      com.google.protobuf.GeneratedMessage
+      implements RegionHandleOrBuilder {
+    // Use RegionHandle.newBuilder() to construct.
+    private RegionHandle(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private RegionHandle(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final RegionHandle defaultInstance;
+    public static RegionHandle getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public RegionHandle getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RegionHandle(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              federateHandle_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              regionHandle_ = input.readUInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_RegionHandle_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_RegionHandle_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.class, net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<RegionHandle> PARSER =
+        new com.google.protobuf.AbstractParser<RegionHandle>() {
+      public RegionHandle parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RegionHandle(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RegionHandle> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required uint32 federateHandle = 1;
+    public static final int FEDERATEHANDLE_FIELD_NUMBER = 1;
+    private int federateHandle_;
+    /**
+     * <code>required uint32 federateHandle = 1;</code>
+     */
+    public boolean hasFederateHandle() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint32 federateHandle = 1;</code>
+     */
+    public int getFederateHandle() {
+      return federateHandle_;
+    }
+
+    // required uint32 regionHandle = 2;
+    public static final int REGIONHANDLE_FIELD_NUMBER = 2;
+    private int regionHandle_;
+    /**
+     * <code>required uint32 regionHandle = 2;</code>
+     */
+    public boolean hasRegionHandle() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required uint32 regionHandle = 2;</code>
+     */
+    public int getRegionHandle() {
+      return regionHandle_;
+    }
+
+    private void initFields() {
+      federateHandle_ = 0;
+      regionHandle_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasFederateHandle()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasRegionHandle()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, federateHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt32(2, regionHandle_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, federateHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, regionHandle_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionHandle parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionHandle parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionHandle parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionHandle parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionHandle parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionHandle parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionHandle parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionHandle parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionHandle parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionHandle parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.RegionHandle prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.RegionHandle}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.proto.OHLAProtos.RegionHandleOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_RegionHandle_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_RegionHandle_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.class, net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        federateHandle_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        regionHandle_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_RegionHandle_descriptor;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionHandle getDefaultInstanceForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionHandle build() {
+        net.sf.ohla.rti.proto.OHLAProtos.RegionHandle result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionHandle buildPartial() {
+        net.sf.ohla.rti.proto.OHLAProtos.RegionHandle result = new net.sf.ohla.rti.proto.OHLAProtos.RegionHandle(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.federateHandle_ = federateHandle_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.regionHandle_ = regionHandle_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.RegionHandle) {
+          return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.RegionHandle)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.RegionHandle other) {
+        if (other == net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.getDefaultInstance()) return this;
+        if (other.hasFederateHandle()) {
+          setFederateHandle(other.getFederateHandle());
+        }
+        if (other.hasRegionHandle()) {
+          setRegionHandle(other.getRegionHandle());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasFederateHandle()) {
+          
+          return false;
+        }
+        if (!hasRegionHandle()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.proto.OHLAProtos.RegionHandle parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.RegionHandle) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint32 federateHandle = 1;
+      private int federateHandle_ ;
+      /**
+       * <code>required uint32 federateHandle = 1;</code>
+       */
+      public boolean hasFederateHandle() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 federateHandle = 1;</code>
+       */
+      public int getFederateHandle() {
+        return federateHandle_;
+      }
+      /**
+       * <code>required uint32 federateHandle = 1;</code>
+       */
+      public Builder setFederateHandle(int value) {
+        bitField0_ |= 0x00000001;
+        federateHandle_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 federateHandle = 1;</code>
+       */
+      public Builder clearFederateHandle() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        federateHandle_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required uint32 regionHandle = 2;
+      private int regionHandle_ ;
+      /**
+       * <code>required uint32 regionHandle = 2;</code>
+       */
+      public boolean hasRegionHandle() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required uint32 regionHandle = 2;</code>
+       */
+      public int getRegionHandle() {
+        return regionHandle_;
+      }
+      /**
+       * <code>required uint32 regionHandle = 2;</code>
+       */
+      public Builder setRegionHandle(int value) {
+        bitField0_ |= 0x00000002;
+        regionHandle_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 regionHandle = 2;</code>
+       */
+      public Builder clearRegionHandle() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        regionHandle_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.proto.RegionHandle)
+    }
+
+    static {
+      defaultInstance = new RegionHandle(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.proto.RegionHandle)
+  }
+
+  public interface DimensionRangeBoundOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint32 dimensionHandle = 1;
+    /**
+     * <code>required uint32 dimensionHandle = 1;</code>
+     */
+    boolean hasDimensionHandle();
+    /**
+     * <code>required uint32 dimensionHandle = 1;</code>
+     */
+    int getDimensionHandle();
+
+    // required uint64 lowerBound = 2;
+    /**
+     * <code>required uint64 lowerBound = 2;</code>
+     */
+    boolean hasLowerBound();
+    /**
+     * <code>required uint64 lowerBound = 2;</code>
+     */
+    long getLowerBound();
+
+    // required uint64 upperBound = 3;
+    /**
+     * <code>required uint64 upperBound = 3;</code>
+     */
+    boolean hasUpperBound();
+    /**
+     * <code>required uint64 upperBound = 3;</code>
+     */
+    long getUpperBound();
+  }
+  /**
+   * Protobuf type {@code ohla.rti.proto.DimensionRangeBound}
+   */
+  public static final class DimensionRangeBound extends
+      com.google.protobuf.GeneratedMessage
+      implements DimensionRangeBoundOrBuilder {
+    // Use DimensionRangeBound.newBuilder() to construct.
+    private DimensionRangeBound(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private DimensionRangeBound(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final DimensionRangeBound defaultInstance;
+    public static DimensionRangeBound getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public DimensionRangeBound getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DimensionRangeBound(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              dimensionHandle_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              lowerBound_ = input.readUInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              upperBound_ = input.readUInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_DimensionRangeBound_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_DimensionRangeBound_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound.class, net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<DimensionRangeBound> PARSER =
+        new com.google.protobuf.AbstractParser<DimensionRangeBound>() {
+      public DimensionRangeBound parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DimensionRangeBound(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DimensionRangeBound> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required uint32 dimensionHandle = 1;
+    public static final int DIMENSIONHANDLE_FIELD_NUMBER = 1;
+    private int dimensionHandle_;
+    /**
+     * <code>required uint32 dimensionHandle = 1;</code>
+     */
+    public boolean hasDimensionHandle() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint32 dimensionHandle = 1;</code>
+     */
+    public int getDimensionHandle() {
+      return dimensionHandle_;
+    }
+
+    // required uint64 lowerBound = 2;
+    public static final int LOWERBOUND_FIELD_NUMBER = 2;
+    private long lowerBound_;
+    /**
+     * <code>required uint64 lowerBound = 2;</code>
+     */
+    public boolean hasLowerBound() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required uint64 lowerBound = 2;</code>
+     */
+    public long getLowerBound() {
+      return lowerBound_;
+    }
+
+    // required uint64 upperBound = 3;
+    public static final int UPPERBOUND_FIELD_NUMBER = 3;
+    private long upperBound_;
+    /**
+     * <code>required uint64 upperBound = 3;</code>
+     */
+    public boolean hasUpperBound() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required uint64 upperBound = 3;</code>
+     */
+    public long getUpperBound() {
+      return upperBound_;
+    }
+
+    private void initFields() {
+      dimensionHandle_ = 0;
+      lowerBound_ = 0L;
+      upperBound_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasDimensionHandle()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasLowerBound()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasUpperBound()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, dimensionHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt64(2, lowerBound_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt64(3, upperBound_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, dimensionHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, lowerBound_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, upperBound_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.DimensionRangeBound}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBoundOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_DimensionRangeBound_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_DimensionRangeBound_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound.class, net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        dimensionHandle_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        lowerBound_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        upperBound_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_DimensionRangeBound_descriptor;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound getDefaultInstanceForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound build() {
+        net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound buildPartial() {
+        net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound result = new net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.dimensionHandle_ = dimensionHandle_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.lowerBound_ = lowerBound_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.upperBound_ = upperBound_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound) {
+          return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound other) {
+        if (other == net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound.getDefaultInstance()) return this;
+        if (other.hasDimensionHandle()) {
+          setDimensionHandle(other.getDimensionHandle());
+        }
+        if (other.hasLowerBound()) {
+          setLowerBound(other.getLowerBound());
+        }
+        if (other.hasUpperBound()) {
+          setUpperBound(other.getUpperBound());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasDimensionHandle()) {
+          
+          return false;
+        }
+        if (!hasLowerBound()) {
+          
+          return false;
+        }
+        if (!hasUpperBound()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.DimensionRangeBound) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint32 dimensionHandle = 1;
+      private int dimensionHandle_ ;
+      /**
+       * <code>required uint32 dimensionHandle = 1;</code>
+       */
+      public boolean hasDimensionHandle() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 dimensionHandle = 1;</code>
+       */
+      public int getDimensionHandle() {
+        return dimensionHandle_;
+      }
+      /**
+       * <code>required uint32 dimensionHandle = 1;</code>
+       */
+      public Builder setDimensionHandle(int value) {
+        bitField0_ |= 0x00000001;
+        dimensionHandle_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 dimensionHandle = 1;</code>
+       */
+      public Builder clearDimensionHandle() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        dimensionHandle_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required uint64 lowerBound = 2;
+      private long lowerBound_ ;
+      /**
+       * <code>required uint64 lowerBound = 2;</code>
+       */
+      public boolean hasLowerBound() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required uint64 lowerBound = 2;</code>
+       */
+      public long getLowerBound() {
+        return lowerBound_;
+      }
+      /**
+       * <code>required uint64 lowerBound = 2;</code>
+       */
+      public Builder setLowerBound(long value) {
+        bitField0_ |= 0x00000002;
+        lowerBound_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint64 lowerBound = 2;</code>
+       */
+      public Builder clearLowerBound() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        lowerBound_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // required uint64 upperBound = 3;
+      private long upperBound_ ;
+      /**
+       * <code>required uint64 upperBound = 3;</code>
+       */
+      public boolean hasUpperBound() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required uint64 upperBound = 3;</code>
+       */
+      public long getUpperBound() {
+        return upperBound_;
+      }
+      /**
+       * <code>required uint64 upperBound = 3;</code>
+       */
+      public Builder setUpperBound(long value) {
+        bitField0_ |= 0x00000004;
+        upperBound_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint64 upperBound = 3;</code>
+       */
+      public Builder clearUpperBound() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        upperBound_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.proto.DimensionRangeBound)
+    }
+
+    static {
+      defaultInstance = new DimensionRangeBound(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.proto.DimensionRangeBound)
+  }
+
+  public interface PublishedObjectClassOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint32 objectClassHandle = 1;
+    /**
+     * <code>required uint32 objectClassHandle = 1;</code>
+     */
+    boolean hasObjectClassHandle();
+    /**
+     * <code>required uint32 objectClassHandle = 1;</code>
+     */
+    int getObjectClassHandle();
+
+    // repeated uint32 attributeHandles = 2;
+    /**
+     * <code>repeated uint32 attributeHandles = 2;</code>
+     */
+    java.util.List<java.lang.Integer> getAttributeHandlesList();
+    /**
+     * <code>repeated uint32 attributeHandles = 2;</code>
+     */
+    int getAttributeHandlesCount();
+    /**
+     * <code>repeated uint32 attributeHandles = 2;</code>
+     */
+    int getAttributeHandles(int index);
+  }
+  /**
+   * Protobuf type {@code ohla.rti.proto.PublishedObjectClass}
+   */
+  public static final class PublishedObjectClass extends
+      com.google.protobuf.GeneratedMessage
+      implements PublishedObjectClassOrBuilder {
+    // Use PublishedObjectClass.newBuilder() to construct.
+    private PublishedObjectClass(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private PublishedObjectClass(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final PublishedObjectClass defaultInstance;
+    public static PublishedObjectClass getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public PublishedObjectClass getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PublishedObjectClass(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              objectClassHandle_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                attributeHandles_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              attributeHandles_.add(input.readUInt32());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                attributeHandles_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                attributeHandles_.add(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          attributeHandles_ = java.util.Collections.unmodifiableList(attributeHandles_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_PublishedObjectClass_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_PublishedObjectClass_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass.class, net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<PublishedObjectClass> PARSER =
+        new com.google.protobuf.AbstractParser<PublishedObjectClass>() {
+      public PublishedObjectClass parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PublishedObjectClass(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PublishedObjectClass> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required uint32 objectClassHandle = 1;
+    public static final int OBJECTCLASSHANDLE_FIELD_NUMBER = 1;
+    private int objectClassHandle_;
+    /**
+     * <code>required uint32 objectClassHandle = 1;</code>
+     */
+    public boolean hasObjectClassHandle() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint32 objectClassHandle = 1;</code>
+     */
+    public int getObjectClassHandle() {
+      return objectClassHandle_;
+    }
+
+    // repeated uint32 attributeHandles = 2;
+    public static final int ATTRIBUTEHANDLES_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Integer> attributeHandles_;
+    /**
+     * <code>repeated uint32 attributeHandles = 2;</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getAttributeHandlesList() {
+      return attributeHandles_;
+    }
+    /**
+     * <code>repeated uint32 attributeHandles = 2;</code>
+     */
+    public int getAttributeHandlesCount() {
+      return attributeHandles_.size();
+    }
+    /**
+     * <code>repeated uint32 attributeHandles = 2;</code>
+     */
+    public int getAttributeHandles(int index) {
+      return attributeHandles_.get(index);
+    }
+
+    private void initFields() {
+      objectClassHandle_ = 0;
+      attributeHandles_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasObjectClassHandle()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, objectClassHandle_);
+      }
+      for (int i = 0; i < attributeHandles_.size(); i++) {
+        output.writeUInt32(2, attributeHandles_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, objectClassHandle_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < attributeHandles_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(attributeHandles_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getAttributeHandlesList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.PublishedObjectClass}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClassOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_PublishedObjectClass_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_PublishedObjectClass_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass.class, net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        objectClassHandle_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        attributeHandles_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_PublishedObjectClass_descriptor;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass getDefaultInstanceForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass build() {
+        net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass buildPartial() {
+        net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass result = new net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.objectClassHandle_ = objectClassHandle_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          attributeHandles_ = java.util.Collections.unmodifiableList(attributeHandles_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.attributeHandles_ = attributeHandles_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass) {
+          return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass other) {
+        if (other == net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass.getDefaultInstance()) return this;
+        if (other.hasObjectClassHandle()) {
+          setObjectClassHandle(other.getObjectClassHandle());
+        }
+        if (!other.attributeHandles_.isEmpty()) {
+          if (attributeHandles_.isEmpty()) {
+            attributeHandles_ = other.attributeHandles_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureAttributeHandlesIsMutable();
+            attributeHandles_.addAll(other.attributeHandles_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasObjectClassHandle()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.PublishedObjectClass) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint32 objectClassHandle = 1;
+      private int objectClassHandle_ ;
+      /**
+       * <code>required uint32 objectClassHandle = 1;</code>
+       */
+      public boolean hasObjectClassHandle() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 objectClassHandle = 1;</code>
+       */
+      public int getObjectClassHandle() {
+        return objectClassHandle_;
+      }
+      /**
+       * <code>required uint32 objectClassHandle = 1;</code>
+       */
+      public Builder setObjectClassHandle(int value) {
+        bitField0_ |= 0x00000001;
+        objectClassHandle_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 objectClassHandle = 1;</code>
+       */
+      public Builder clearObjectClassHandle() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        objectClassHandle_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // repeated uint32 attributeHandles = 2;
+      private java.util.List<java.lang.Integer> attributeHandles_ = java.util.Collections.emptyList();
+      private void ensureAttributeHandlesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          attributeHandles_ = new java.util.ArrayList<java.lang.Integer>(attributeHandles_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated uint32 attributeHandles = 2;</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getAttributeHandlesList() {
+        return java.util.Collections.unmodifiableList(attributeHandles_);
+      }
+      /**
+       * <code>repeated uint32 attributeHandles = 2;</code>
+       */
+      public int getAttributeHandlesCount() {
+        return attributeHandles_.size();
+      }
+      /**
+       * <code>repeated uint32 attributeHandles = 2;</code>
+       */
+      public int getAttributeHandles(int index) {
+        return attributeHandles_.get(index);
+      }
+      /**
+       * <code>repeated uint32 attributeHandles = 2;</code>
+       */
+      public Builder setAttributeHandles(
+          int index, int value) {
+        ensureAttributeHandlesIsMutable();
+        attributeHandles_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 attributeHandles = 2;</code>
+       */
+      public Builder addAttributeHandles(int value) {
+        ensureAttributeHandlesIsMutable();
+        attributeHandles_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 attributeHandles = 2;</code>
+       */
+      public Builder addAllAttributeHandles(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureAttributeHandlesIsMutable();
+        super.addAll(values, attributeHandles_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 attributeHandles = 2;</code>
+       */
+      public Builder clearAttributeHandles() {
+        attributeHandles_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.proto.PublishedObjectClass)
+    }
+
+    static {
+      defaultInstance = new PublishedObjectClass(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.proto.PublishedObjectClass)
+  }
+
+  public interface RegionSubscriptionOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+    /**
+     * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+     */
+    boolean hasRegionHandle();
+    /**
+     * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.RegionHandle getRegionHandle();
+    /**
+     * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.RegionHandleOrBuilder getRegionHandleOrBuilder();
+
+    // required bool passive = 2;
+    /**
+     * <code>required bool passive = 2;</code>
+     */
+    boolean hasPassive();
+    /**
+     * <code>required bool passive = 2;</code>
+     */
+    boolean getPassive();
+  }
+  /**
+   * Protobuf type {@code ohla.rti.proto.RegionSubscription}
+   */
+  public static final class RegionSubscription extends
+      com.google.protobuf.GeneratedMessage
+      implements RegionSubscriptionOrBuilder {
+    // Use RegionSubscription.newBuilder() to construct.
+    private RegionSubscription(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private RegionSubscription(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final RegionSubscription defaultInstance;
+    public static RegionSubscription getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public RegionSubscription getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RegionSubscription(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = regionHandle_.toBuilder();
+              }
+              regionHandle_ = input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(regionHandle_);
+                regionHandle_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              passive_ = input.readBool();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_RegionSubscription_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_RegionSubscription_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.class, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<RegionSubscription> PARSER =
+        new com.google.protobuf.AbstractParser<RegionSubscription>() {
+      public RegionSubscription parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RegionSubscription(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RegionSubscription> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+    public static final int REGIONHANDLE_FIELD_NUMBER = 1;
+    private net.sf.ohla.rti.proto.OHLAProtos.RegionHandle regionHandle_;
+    /**
+     * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+     */
+    public boolean hasRegionHandle() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.RegionHandle getRegionHandle() {
+      return regionHandle_;
+    }
+    /**
+     * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.RegionHandleOrBuilder getRegionHandleOrBuilder() {
+      return regionHandle_;
+    }
+
+    // required bool passive = 2;
+    public static final int PASSIVE_FIELD_NUMBER = 2;
+    private boolean passive_;
+    /**
+     * <code>required bool passive = 2;</code>
+     */
+    public boolean hasPassive() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required bool passive = 2;</code>
+     */
+    public boolean getPassive() {
+      return passive_;
+    }
+
+    private void initFields() {
+      regionHandle_ = net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.getDefaultInstance();
+      passive_ = false;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasRegionHandle()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasPassive()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getRegionHandle().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, regionHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(2, passive_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, regionHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, passive_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.RegionSubscription}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_RegionSubscription_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_RegionSubscription_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.class, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getRegionHandleFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (regionHandleBuilder_ == null) {
+          regionHandle_ = net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.getDefaultInstance();
+        } else {
+          regionHandleBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        passive_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_RegionSubscription_descriptor;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription getDefaultInstanceForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription build() {
+        net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription buildPartial() {
+        net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription result = new net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (regionHandleBuilder_ == null) {
+          result.regionHandle_ = regionHandle_;
+        } else {
+          result.regionHandle_ = regionHandleBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.passive_ = passive_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription) {
+          return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription other) {
+        if (other == net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.getDefaultInstance()) return this;
+        if (other.hasRegionHandle()) {
+          mergeRegionHandle(other.getRegionHandle());
+        }
+        if (other.hasPassive()) {
+          setPassive(other.getPassive());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasRegionHandle()) {
+          
+          return false;
+        }
+        if (!hasPassive()) {
+          
+          return false;
+        }
+        if (!getRegionHandle().isInitialized()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required .ohla.rti.proto.RegionHandle regionHandle = 1;
+      private net.sf.ohla.rti.proto.OHLAProtos.RegionHandle regionHandle_ = net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.RegionHandle, net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.Builder, net.sf.ohla.rti.proto.OHLAProtos.RegionHandleOrBuilder> regionHandleBuilder_;
+      /**
+       * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+       */
+      public boolean hasRegionHandle() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionHandle getRegionHandle() {
+        if (regionHandleBuilder_ == null) {
+          return regionHandle_;
+        } else {
+          return regionHandleBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+       */
+      public Builder setRegionHandle(net.sf.ohla.rti.proto.OHLAProtos.RegionHandle value) {
+        if (regionHandleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          regionHandle_ = value;
+          onChanged();
+        } else {
+          regionHandleBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+       */
+      public Builder setRegionHandle(
+          net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.Builder builderForValue) {
+        if (regionHandleBuilder_ == null) {
+          regionHandle_ = builderForValue.build();
+          onChanged();
+        } else {
+          regionHandleBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+       */
+      public Builder mergeRegionHandle(net.sf.ohla.rti.proto.OHLAProtos.RegionHandle value) {
+        if (regionHandleBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              regionHandle_ != net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.getDefaultInstance()) {
+            regionHandle_ =
+              net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.newBuilder(regionHandle_).mergeFrom(value).buildPartial();
+          } else {
+            regionHandle_ = value;
+          }
+          onChanged();
+        } else {
+          regionHandleBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+       */
+      public Builder clearRegionHandle() {
+        if (regionHandleBuilder_ == null) {
+          regionHandle_ = net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.getDefaultInstance();
+          onChanged();
+        } else {
+          regionHandleBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.Builder getRegionHandleBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getRegionHandleFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionHandleOrBuilder getRegionHandleOrBuilder() {
+        if (regionHandleBuilder_ != null) {
+          return regionHandleBuilder_.getMessageOrBuilder();
+        } else {
+          return regionHandle_;
+        }
+      }
+      /**
+       * <code>required .ohla.rti.proto.RegionHandle regionHandle = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.RegionHandle, net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.Builder, net.sf.ohla.rti.proto.OHLAProtos.RegionHandleOrBuilder> 
+          getRegionHandleFieldBuilder() {
+        if (regionHandleBuilder_ == null) {
+          regionHandleBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              net.sf.ohla.rti.proto.OHLAProtos.RegionHandle, net.sf.ohla.rti.proto.OHLAProtos.RegionHandle.Builder, net.sf.ohla.rti.proto.OHLAProtos.RegionHandleOrBuilder>(
+                  regionHandle_,
+                  getParentForChildren(),
+                  isClean());
+          regionHandle_ = null;
+        }
+        return regionHandleBuilder_;
+      }
+
+      // required bool passive = 2;
+      private boolean passive_ ;
+      /**
+       * <code>required bool passive = 2;</code>
+       */
+      public boolean hasPassive() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bool passive = 2;</code>
+       */
+      public boolean getPassive() {
+        return passive_;
+      }
+      /**
+       * <code>required bool passive = 2;</code>
+       */
+      public Builder setPassive(boolean value) {
+        bitField0_ |= 0x00000002;
+        passive_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool passive = 2;</code>
+       */
+      public Builder clearPassive() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        passive_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.proto.RegionSubscription)
+    }
+
+    static {
+      defaultInstance = new RegionSubscription(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.proto.RegionSubscription)
+  }
+
+  public interface AttributeSubscriptionOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint32 attributeHandle = 1;
+    /**
+     * <code>required uint32 attributeHandle = 1;</code>
+     */
+    boolean hasAttributeHandle();
+    /**
+     * <code>required uint32 attributeHandle = 1;</code>
+     */
+    int getAttributeHandle();
+
+    // required bool defaultRegionSubscribed = 2;
+    /**
+     * <code>required bool defaultRegionSubscribed = 2;</code>
+     */
+    boolean hasDefaultRegionSubscribed();
+    /**
+     * <code>required bool defaultRegionSubscribed = 2;</code>
+     */
+    boolean getDefaultRegionSubscribed();
+
+    // required bool defaultRegionSubscriptionPassive = 3;
+    /**
+     * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+     */
+    boolean hasDefaultRegionSubscriptionPassive();
+    /**
+     * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+     */
+    boolean getDefaultRegionSubscriptionPassive();
+
+    // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    java.util.List<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription> 
+        getRegionSubscriptionsList();
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription getRegionSubscriptions(int index);
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    int getRegionSubscriptionsCount();
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder> 
+        getRegionSubscriptionsOrBuilderList();
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder getRegionSubscriptionsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code ohla.rti.proto.AttributeSubscription}
+   */
+  public static final class AttributeSubscription extends
+      com.google.protobuf.GeneratedMessage
+      implements AttributeSubscriptionOrBuilder {
+    // Use AttributeSubscription.newBuilder() to construct.
+    private AttributeSubscription(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private AttributeSubscription(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final AttributeSubscription defaultInstance;
+    public static AttributeSubscription getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public AttributeSubscription getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AttributeSubscription(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              attributeHandle_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              defaultRegionSubscribed_ = input.readBool();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              defaultRegionSubscriptionPassive_ = input.readBool();
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                regionSubscriptions_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              regionSubscriptions_.add(input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          regionSubscriptions_ = java.util.Collections.unmodifiableList(regionSubscriptions_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_AttributeSubscription_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_AttributeSubscription_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.class, net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<AttributeSubscription> PARSER =
+        new com.google.protobuf.AbstractParser<AttributeSubscription>() {
+      public AttributeSubscription parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AttributeSubscription(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AttributeSubscription> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required uint32 attributeHandle = 1;
+    public static final int ATTRIBUTEHANDLE_FIELD_NUMBER = 1;
+    private int attributeHandle_;
+    /**
+     * <code>required uint32 attributeHandle = 1;</code>
+     */
+    public boolean hasAttributeHandle() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint32 attributeHandle = 1;</code>
+     */
+    public int getAttributeHandle() {
+      return attributeHandle_;
+    }
+
+    // required bool defaultRegionSubscribed = 2;
+    public static final int DEFAULTREGIONSUBSCRIBED_FIELD_NUMBER = 2;
+    private boolean defaultRegionSubscribed_;
+    /**
+     * <code>required bool defaultRegionSubscribed = 2;</code>
+     */
+    public boolean hasDefaultRegionSubscribed() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required bool defaultRegionSubscribed = 2;</code>
+     */
+    public boolean getDefaultRegionSubscribed() {
+      return defaultRegionSubscribed_;
+    }
+
+    // required bool defaultRegionSubscriptionPassive = 3;
+    public static final int DEFAULTREGIONSUBSCRIPTIONPASSIVE_FIELD_NUMBER = 3;
+    private boolean defaultRegionSubscriptionPassive_;
+    /**
+     * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+     */
+    public boolean hasDefaultRegionSubscriptionPassive() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+     */
+    public boolean getDefaultRegionSubscriptionPassive() {
+      return defaultRegionSubscriptionPassive_;
+    }
+
+    // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+    public static final int REGIONSUBSCRIPTIONS_FIELD_NUMBER = 4;
+    private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription> regionSubscriptions_;
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription> getRegionSubscriptionsList() {
+      return regionSubscriptions_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder> 
+        getRegionSubscriptionsOrBuilderList() {
+      return regionSubscriptions_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    public int getRegionSubscriptionsCount() {
+      return regionSubscriptions_.size();
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription getRegionSubscriptions(int index) {
+      return regionSubscriptions_.get(index);
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder getRegionSubscriptionsOrBuilder(
+        int index) {
+      return regionSubscriptions_.get(index);
+    }
+
+    private void initFields() {
+      attributeHandle_ = 0;
+      defaultRegionSubscribed_ = false;
+      defaultRegionSubscriptionPassive_ = false;
+      regionSubscriptions_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasAttributeHandle()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasDefaultRegionSubscribed()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasDefaultRegionSubscriptionPassive()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getRegionSubscriptionsCount(); i++) {
+        if (!getRegionSubscriptions(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, attributeHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(2, defaultRegionSubscribed_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBool(3, defaultRegionSubscriptionPassive_);
+      }
+      for (int i = 0; i < regionSubscriptions_.size(); i++) {
+        output.writeMessage(4, regionSubscriptions_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, attributeHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, defaultRegionSubscribed_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, defaultRegionSubscriptionPassive_);
+      }
+      for (int i = 0; i < regionSubscriptions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, regionSubscriptions_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.AttributeSubscription}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscriptionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_AttributeSubscription_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_AttributeSubscription_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.class, net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getRegionSubscriptionsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        attributeHandle_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        defaultRegionSubscribed_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        defaultRegionSubscriptionPassive_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (regionSubscriptionsBuilder_ == null) {
+          regionSubscriptions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          regionSubscriptionsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_AttributeSubscription_descriptor;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription getDefaultInstanceForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription build() {
+        net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription buildPartial() {
+        net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription result = new net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.attributeHandle_ = attributeHandle_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.defaultRegionSubscribed_ = defaultRegionSubscribed_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.defaultRegionSubscriptionPassive_ = defaultRegionSubscriptionPassive_;
+        if (regionSubscriptionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            regionSubscriptions_ = java.util.Collections.unmodifiableList(regionSubscriptions_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.regionSubscriptions_ = regionSubscriptions_;
+        } else {
+          result.regionSubscriptions_ = regionSubscriptionsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription) {
+          return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription other) {
+        if (other == net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.getDefaultInstance()) return this;
+        if (other.hasAttributeHandle()) {
+          setAttributeHandle(other.getAttributeHandle());
+        }
+        if (other.hasDefaultRegionSubscribed()) {
+          setDefaultRegionSubscribed(other.getDefaultRegionSubscribed());
+        }
+        if (other.hasDefaultRegionSubscriptionPassive()) {
+          setDefaultRegionSubscriptionPassive(other.getDefaultRegionSubscriptionPassive());
+        }
+        if (regionSubscriptionsBuilder_ == null) {
+          if (!other.regionSubscriptions_.isEmpty()) {
+            if (regionSubscriptions_.isEmpty()) {
+              regionSubscriptions_ = other.regionSubscriptions_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureRegionSubscriptionsIsMutable();
+              regionSubscriptions_.addAll(other.regionSubscriptions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.regionSubscriptions_.isEmpty()) {
+            if (regionSubscriptionsBuilder_.isEmpty()) {
+              regionSubscriptionsBuilder_.dispose();
+              regionSubscriptionsBuilder_ = null;
+              regionSubscriptions_ = other.regionSubscriptions_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              regionSubscriptionsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getRegionSubscriptionsFieldBuilder() : null;
+            } else {
+              regionSubscriptionsBuilder_.addAllMessages(other.regionSubscriptions_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasAttributeHandle()) {
+          
+          return false;
+        }
+        if (!hasDefaultRegionSubscribed()) {
+          
+          return false;
+        }
+        if (!hasDefaultRegionSubscriptionPassive()) {
+          
+          return false;
+        }
+        for (int i = 0; i < getRegionSubscriptionsCount(); i++) {
+          if (!getRegionSubscriptions(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint32 attributeHandle = 1;
+      private int attributeHandle_ ;
+      /**
+       * <code>required uint32 attributeHandle = 1;</code>
+       */
+      public boolean hasAttributeHandle() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 attributeHandle = 1;</code>
+       */
+      public int getAttributeHandle() {
+        return attributeHandle_;
+      }
+      /**
+       * <code>required uint32 attributeHandle = 1;</code>
+       */
+      public Builder setAttributeHandle(int value) {
+        bitField0_ |= 0x00000001;
+        attributeHandle_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 attributeHandle = 1;</code>
+       */
+      public Builder clearAttributeHandle() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        attributeHandle_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required bool defaultRegionSubscribed = 2;
+      private boolean defaultRegionSubscribed_ ;
+      /**
+       * <code>required bool defaultRegionSubscribed = 2;</code>
+       */
+      public boolean hasDefaultRegionSubscribed() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bool defaultRegionSubscribed = 2;</code>
+       */
+      public boolean getDefaultRegionSubscribed() {
+        return defaultRegionSubscribed_;
+      }
+      /**
+       * <code>required bool defaultRegionSubscribed = 2;</code>
+       */
+      public Builder setDefaultRegionSubscribed(boolean value) {
+        bitField0_ |= 0x00000002;
+        defaultRegionSubscribed_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool defaultRegionSubscribed = 2;</code>
+       */
+      public Builder clearDefaultRegionSubscribed() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        defaultRegionSubscribed_ = false;
+        onChanged();
+        return this;
+      }
+
+      // required bool defaultRegionSubscriptionPassive = 3;
+      private boolean defaultRegionSubscriptionPassive_ ;
+      /**
+       * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+       */
+      public boolean hasDefaultRegionSubscriptionPassive() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+       */
+      public boolean getDefaultRegionSubscriptionPassive() {
+        return defaultRegionSubscriptionPassive_;
+      }
+      /**
+       * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+       */
+      public Builder setDefaultRegionSubscriptionPassive(boolean value) {
+        bitField0_ |= 0x00000004;
+        defaultRegionSubscriptionPassive_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+       */
+      public Builder clearDefaultRegionSubscriptionPassive() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        defaultRegionSubscriptionPassive_ = false;
+        onChanged();
+        return this;
+      }
+
+      // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+      private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription> regionSubscriptions_ =
+        java.util.Collections.emptyList();
+      private void ensureRegionSubscriptionsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          regionSubscriptions_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription>(regionSubscriptions_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder> regionSubscriptionsBuilder_;
+
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription> getRegionSubscriptionsList() {
+        if (regionSubscriptionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(regionSubscriptions_);
+        } else {
+          return regionSubscriptionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public int getRegionSubscriptionsCount() {
+        if (regionSubscriptionsBuilder_ == null) {
+          return regionSubscriptions_.size();
+        } else {
+          return regionSubscriptionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription getRegionSubscriptions(int index) {
+        if (regionSubscriptionsBuilder_ == null) {
+          return regionSubscriptions_.get(index);
+        } else {
+          return regionSubscriptionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder setRegionSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription value) {
+        if (regionSubscriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRegionSubscriptionsIsMutable();
+          regionSubscriptions_.set(index, value);
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder setRegionSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder builderForValue) {
+        if (regionSubscriptionsBuilder_ == null) {
+          ensureRegionSubscriptionsIsMutable();
+          regionSubscriptions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder addRegionSubscriptions(net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription value) {
+        if (regionSubscriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRegionSubscriptionsIsMutable();
+          regionSubscriptions_.add(value);
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder addRegionSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription value) {
+        if (regionSubscriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRegionSubscriptionsIsMutable();
+          regionSubscriptions_.add(index, value);
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder addRegionSubscriptions(
+          net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder builderForValue) {
+        if (regionSubscriptionsBuilder_ == null) {
+          ensureRegionSubscriptionsIsMutable();
+          regionSubscriptions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder addRegionSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder builderForValue) {
+        if (regionSubscriptionsBuilder_ == null) {
+          ensureRegionSubscriptionsIsMutable();
+          regionSubscriptions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder addAllRegionSubscriptions(
+          java.lang.Iterable<? extends net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription> values) {
+        if (regionSubscriptionsBuilder_ == null) {
+          ensureRegionSubscriptionsIsMutable();
+          super.addAll(values, regionSubscriptions_);
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder clearRegionSubscriptions() {
+        if (regionSubscriptionsBuilder_ == null) {
+          regionSubscriptions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder removeRegionSubscriptions(int index) {
+        if (regionSubscriptionsBuilder_ == null) {
+          ensureRegionSubscriptionsIsMutable();
+          regionSubscriptions_.remove(index);
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder getRegionSubscriptionsBuilder(
+          int index) {
+        return getRegionSubscriptionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder getRegionSubscriptionsOrBuilder(
+          int index) {
+        if (regionSubscriptionsBuilder_ == null) {
+          return regionSubscriptions_.get(index);  } else {
+          return regionSubscriptionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder> 
+           getRegionSubscriptionsOrBuilderList() {
+        if (regionSubscriptionsBuilder_ != null) {
+          return regionSubscriptionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(regionSubscriptions_);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder addRegionSubscriptionsBuilder() {
+        return getRegionSubscriptionsFieldBuilder().addBuilder(
+            net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder addRegionSubscriptionsBuilder(
+          int index) {
+        return getRegionSubscriptionsFieldBuilder().addBuilder(
+            index, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder> 
+           getRegionSubscriptionsBuilderList() {
+        return getRegionSubscriptionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder> 
+          getRegionSubscriptionsFieldBuilder() {
+        if (regionSubscriptionsBuilder_ == null) {
+          regionSubscriptionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder>(
+                  regionSubscriptions_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          regionSubscriptions_ = null;
+        }
+        return regionSubscriptionsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.proto.AttributeSubscription)
+    }
+
+    static {
+      defaultInstance = new AttributeSubscription(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.proto.AttributeSubscription)
+  }
+
+  public interface ObjectClassSubscriptionOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint32 objectClassHandle = 1;
+    /**
+     * <code>required uint32 objectClassHandle = 1;</code>
+     */
+    boolean hasObjectClassHandle();
+    /**
+     * <code>required uint32 objectClassHandle = 1;</code>
+     */
+    int getObjectClassHandle();
+
+    // repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;
+    /**
+     * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+     */
+    java.util.List<net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription> 
+        getAttributeSubscriptionList();
+    /**
+     * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription getAttributeSubscription(int index);
+    /**
+     * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+     */
+    int getAttributeSubscriptionCount();
+    /**
+     * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+     */
+    java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscriptionOrBuilder> 
+        getAttributeSubscriptionOrBuilderList();
+    /**
+     * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscriptionOrBuilder getAttributeSubscriptionOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code ohla.rti.proto.ObjectClassSubscription}
+   */
+  public static final class ObjectClassSubscription extends
+      com.google.protobuf.GeneratedMessage
+      implements ObjectClassSubscriptionOrBuilder {
+    // Use ObjectClassSubscription.newBuilder() to construct.
+    private ObjectClassSubscription(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ObjectClassSubscription(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final ObjectClassSubscription defaultInstance;
+    public static ObjectClassSubscription getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ObjectClassSubscription getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ObjectClassSubscription(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              objectClassHandle_ = input.readUInt32();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                attributeSubscription_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              attributeSubscription_.add(input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          attributeSubscription_ = java.util.Collections.unmodifiableList(attributeSubscription_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_ObjectClassSubscription_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_ObjectClassSubscription_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.class, net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ObjectClassSubscription> PARSER =
+        new com.google.protobuf.AbstractParser<ObjectClassSubscription>() {
+      public ObjectClassSubscription parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ObjectClassSubscription(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ObjectClassSubscription> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required uint32 objectClassHandle = 1;
+    public static final int OBJECTCLASSHANDLE_FIELD_NUMBER = 1;
+    private int objectClassHandle_;
+    /**
+     * <code>required uint32 objectClassHandle = 1;</code>
+     */
+    public boolean hasObjectClassHandle() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint32 objectClassHandle = 1;</code>
+     */
+    public int getObjectClassHandle() {
+      return objectClassHandle_;
+    }
+
+    // repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;
+    public static final int ATTRIBUTESUBSCRIPTION_FIELD_NUMBER = 2;
+    private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription> attributeSubscription_;
+    /**
+     * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+     */
+    public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription> getAttributeSubscriptionList() {
+      return attributeSubscription_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+     */
+    public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscriptionOrBuilder> 
+        getAttributeSubscriptionOrBuilderList() {
+      return attributeSubscription_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+     */
+    public int getAttributeSubscriptionCount() {
+      return attributeSubscription_.size();
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription getAttributeSubscription(int index) {
+      return attributeSubscription_.get(index);
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscriptionOrBuilder getAttributeSubscriptionOrBuilder(
+        int index) {
+      return attributeSubscription_.get(index);
+    }
+
+    private void initFields() {
+      objectClassHandle_ = 0;
+      attributeSubscription_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasObjectClassHandle()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getAttributeSubscriptionCount(); i++) {
+        if (!getAttributeSubscription(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, objectClassHandle_);
+      }
+      for (int i = 0; i < attributeSubscription_.size(); i++) {
+        output.writeMessage(2, attributeSubscription_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, objectClassHandle_);
+      }
+      for (int i = 0; i < attributeSubscription_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, attributeSubscription_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.ObjectClassSubscription}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscriptionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_ObjectClassSubscription_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_ObjectClassSubscription_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.class, net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getAttributeSubscriptionFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        objectClassHandle_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (attributeSubscriptionBuilder_ == null) {
+          attributeSubscription_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          attributeSubscriptionBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_ObjectClassSubscription_descriptor;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription getDefaultInstanceForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription build() {
+        net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription buildPartial() {
+        net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription result = new net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.objectClassHandle_ = objectClassHandle_;
+        if (attributeSubscriptionBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            attributeSubscription_ = java.util.Collections.unmodifiableList(attributeSubscription_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.attributeSubscription_ = attributeSubscription_;
+        } else {
+          result.attributeSubscription_ = attributeSubscriptionBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription) {
+          return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription other) {
+        if (other == net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.getDefaultInstance()) return this;
+        if (other.hasObjectClassHandle()) {
+          setObjectClassHandle(other.getObjectClassHandle());
+        }
+        if (attributeSubscriptionBuilder_ == null) {
+          if (!other.attributeSubscription_.isEmpty()) {
+            if (attributeSubscription_.isEmpty()) {
+              attributeSubscription_ = other.attributeSubscription_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureAttributeSubscriptionIsMutable();
+              attributeSubscription_.addAll(other.attributeSubscription_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.attributeSubscription_.isEmpty()) {
+            if (attributeSubscriptionBuilder_.isEmpty()) {
+              attributeSubscriptionBuilder_.dispose();
+              attributeSubscriptionBuilder_ = null;
+              attributeSubscription_ = other.attributeSubscription_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              attributeSubscriptionBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getAttributeSubscriptionFieldBuilder() : null;
+            } else {
+              attributeSubscriptionBuilder_.addAllMessages(other.attributeSubscription_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasObjectClassHandle()) {
+          
+          return false;
+        }
+        for (int i = 0; i < getAttributeSubscriptionCount(); i++) {
+          if (!getAttributeSubscription(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint32 objectClassHandle = 1;
+      private int objectClassHandle_ ;
+      /**
+       * <code>required uint32 objectClassHandle = 1;</code>
+       */
+      public boolean hasObjectClassHandle() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 objectClassHandle = 1;</code>
+       */
+      public int getObjectClassHandle() {
+        return objectClassHandle_;
+      }
+      /**
+       * <code>required uint32 objectClassHandle = 1;</code>
+       */
+      public Builder setObjectClassHandle(int value) {
+        bitField0_ |= 0x00000001;
+        objectClassHandle_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 objectClassHandle = 1;</code>
+       */
+      public Builder clearObjectClassHandle() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        objectClassHandle_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;
+      private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription> attributeSubscription_ =
+        java.util.Collections.emptyList();
+      private void ensureAttributeSubscriptionIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          attributeSubscription_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription>(attributeSubscription_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription, net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscriptionOrBuilder> attributeSubscriptionBuilder_;
+
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription> getAttributeSubscriptionList() {
+        if (attributeSubscriptionBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(attributeSubscription_);
+        } else {
+          return attributeSubscriptionBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public int getAttributeSubscriptionCount() {
+        if (attributeSubscriptionBuilder_ == null) {
+          return attributeSubscription_.size();
+        } else {
+          return attributeSubscriptionBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription getAttributeSubscription(int index) {
+        if (attributeSubscriptionBuilder_ == null) {
+          return attributeSubscription_.get(index);
+        } else {
+          return attributeSubscriptionBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public Builder setAttributeSubscription(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription value) {
+        if (attributeSubscriptionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttributeSubscriptionIsMutable();
+          attributeSubscription_.set(index, value);
+          onChanged();
+        } else {
+          attributeSubscriptionBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public Builder setAttributeSubscription(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.Builder builderForValue) {
+        if (attributeSubscriptionBuilder_ == null) {
+          ensureAttributeSubscriptionIsMutable();
+          attributeSubscription_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          attributeSubscriptionBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public Builder addAttributeSubscription(net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription value) {
+        if (attributeSubscriptionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttributeSubscriptionIsMutable();
+          attributeSubscription_.add(value);
+          onChanged();
+        } else {
+          attributeSubscriptionBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public Builder addAttributeSubscription(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription value) {
+        if (attributeSubscriptionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttributeSubscriptionIsMutable();
+          attributeSubscription_.add(index, value);
+          onChanged();
+        } else {
+          attributeSubscriptionBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public Builder addAttributeSubscription(
+          net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.Builder builderForValue) {
+        if (attributeSubscriptionBuilder_ == null) {
+          ensureAttributeSubscriptionIsMutable();
+          attributeSubscription_.add(builderForValue.build());
+          onChanged();
+        } else {
+          attributeSubscriptionBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public Builder addAttributeSubscription(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.Builder builderForValue) {
+        if (attributeSubscriptionBuilder_ == null) {
+          ensureAttributeSubscriptionIsMutable();
+          attributeSubscription_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          attributeSubscriptionBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public Builder addAllAttributeSubscription(
+          java.lang.Iterable<? extends net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription> values) {
+        if (attributeSubscriptionBuilder_ == null) {
+          ensureAttributeSubscriptionIsMutable();
+          super.addAll(values, attributeSubscription_);
+          onChanged();
+        } else {
+          attributeSubscriptionBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public Builder clearAttributeSubscription() {
+        if (attributeSubscriptionBuilder_ == null) {
+          attributeSubscription_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          attributeSubscriptionBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public Builder removeAttributeSubscription(int index) {
+        if (attributeSubscriptionBuilder_ == null) {
+          ensureAttributeSubscriptionIsMutable();
+          attributeSubscription_.remove(index);
+          onChanged();
+        } else {
+          attributeSubscriptionBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.Builder getAttributeSubscriptionBuilder(
+          int index) {
+        return getAttributeSubscriptionFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscriptionOrBuilder getAttributeSubscriptionOrBuilder(
+          int index) {
+        if (attributeSubscriptionBuilder_ == null) {
+          return attributeSubscription_.get(index);  } else {
+          return attributeSubscriptionBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscriptionOrBuilder> 
+           getAttributeSubscriptionOrBuilderList() {
+        if (attributeSubscriptionBuilder_ != null) {
+          return attributeSubscriptionBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(attributeSubscription_);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.Builder addAttributeSubscriptionBuilder() {
+        return getAttributeSubscriptionFieldBuilder().addBuilder(
+            net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.Builder addAttributeSubscriptionBuilder(
+          int index) {
+        return getAttributeSubscriptionFieldBuilder().addBuilder(
+            index, net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.AttributeSubscription attributeSubscription = 2;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.Builder> 
+           getAttributeSubscriptionBuilderList() {
+        return getAttributeSubscriptionFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription, net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscriptionOrBuilder> 
+          getAttributeSubscriptionFieldBuilder() {
+        if (attributeSubscriptionBuilder_ == null) {
+          attributeSubscriptionBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription, net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.AttributeSubscriptionOrBuilder>(
+                  attributeSubscription_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          attributeSubscription_ = null;
+        }
+        return attributeSubscriptionBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.proto.ObjectClassSubscription)
+    }
+
+    static {
+      defaultInstance = new ObjectClassSubscription(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.proto.ObjectClassSubscription)
+  }
+
+  public interface InteractionClassSubscriptionOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint32 interactionClassHandle = 1;
+    /**
+     * <code>required uint32 interactionClassHandle = 1;</code>
+     */
+    boolean hasInteractionClassHandle();
+    /**
+     * <code>required uint32 interactionClassHandle = 1;</code>
+     */
+    int getInteractionClassHandle();
+
+    // required bool defaultRegionSubscribed = 2;
+    /**
+     * <code>required bool defaultRegionSubscribed = 2;</code>
+     */
+    boolean hasDefaultRegionSubscribed();
+    /**
+     * <code>required bool defaultRegionSubscribed = 2;</code>
+     */
+    boolean getDefaultRegionSubscribed();
+
+    // required bool defaultRegionSubscriptionPassive = 3;
+    /**
+     * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+     */
+    boolean hasDefaultRegionSubscriptionPassive();
+    /**
+     * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+     */
+    boolean getDefaultRegionSubscriptionPassive();
+
+    // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    java.util.List<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription> 
+        getRegionSubscriptionsList();
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription getRegionSubscriptions(int index);
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    int getRegionSubscriptionsCount();
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder> 
+        getRegionSubscriptionsOrBuilderList();
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder getRegionSubscriptionsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code ohla.rti.proto.InteractionClassSubscription}
+   */
+  public static final class InteractionClassSubscription extends
+      com.google.protobuf.GeneratedMessage
+      implements InteractionClassSubscriptionOrBuilder {
+    // Use InteractionClassSubscription.newBuilder() to construct.
+    private InteractionClassSubscription(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private InteractionClassSubscription(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final InteractionClassSubscription defaultInstance;
+    public static InteractionClassSubscription getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public InteractionClassSubscription getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private InteractionClassSubscription(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              interactionClassHandle_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              defaultRegionSubscribed_ = input.readBool();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              defaultRegionSubscriptionPassive_ = input.readBool();
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                regionSubscriptions_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              regionSubscriptions_.add(input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          regionSubscriptions_ = java.util.Collections.unmodifiableList(regionSubscriptions_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_InteractionClassSubscription_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_InteractionClassSubscription_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.class, net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<InteractionClassSubscription> PARSER =
+        new com.google.protobuf.AbstractParser<InteractionClassSubscription>() {
+      public InteractionClassSubscription parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new InteractionClassSubscription(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<InteractionClassSubscription> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required uint32 interactionClassHandle = 1;
+    public static final int INTERACTIONCLASSHANDLE_FIELD_NUMBER = 1;
+    private int interactionClassHandle_;
+    /**
+     * <code>required uint32 interactionClassHandle = 1;</code>
+     */
+    public boolean hasInteractionClassHandle() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint32 interactionClassHandle = 1;</code>
+     */
+    public int getInteractionClassHandle() {
+      return interactionClassHandle_;
+    }
+
+    // required bool defaultRegionSubscribed = 2;
+    public static final int DEFAULTREGIONSUBSCRIBED_FIELD_NUMBER = 2;
+    private boolean defaultRegionSubscribed_;
+    /**
+     * <code>required bool defaultRegionSubscribed = 2;</code>
+     */
+    public boolean hasDefaultRegionSubscribed() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required bool defaultRegionSubscribed = 2;</code>
+     */
+    public boolean getDefaultRegionSubscribed() {
+      return defaultRegionSubscribed_;
+    }
+
+    // required bool defaultRegionSubscriptionPassive = 3;
+    public static final int DEFAULTREGIONSUBSCRIPTIONPASSIVE_FIELD_NUMBER = 3;
+    private boolean defaultRegionSubscriptionPassive_;
+    /**
+     * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+     */
+    public boolean hasDefaultRegionSubscriptionPassive() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+     */
+    public boolean getDefaultRegionSubscriptionPassive() {
+      return defaultRegionSubscriptionPassive_;
+    }
+
+    // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+    public static final int REGIONSUBSCRIPTIONS_FIELD_NUMBER = 4;
+    private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription> regionSubscriptions_;
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription> getRegionSubscriptionsList() {
+      return regionSubscriptions_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder> 
+        getRegionSubscriptionsOrBuilderList() {
+      return regionSubscriptions_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    public int getRegionSubscriptionsCount() {
+      return regionSubscriptions_.size();
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription getRegionSubscriptions(int index) {
+      return regionSubscriptions_.get(index);
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder getRegionSubscriptionsOrBuilder(
+        int index) {
+      return regionSubscriptions_.get(index);
+    }
+
+    private void initFields() {
+      interactionClassHandle_ = 0;
+      defaultRegionSubscribed_ = false;
+      defaultRegionSubscriptionPassive_ = false;
+      regionSubscriptions_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasInteractionClassHandle()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasDefaultRegionSubscribed()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasDefaultRegionSubscriptionPassive()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getRegionSubscriptionsCount(); i++) {
+        if (!getRegionSubscriptions(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, interactionClassHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(2, defaultRegionSubscribed_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBool(3, defaultRegionSubscriptionPassive_);
+      }
+      for (int i = 0; i < regionSubscriptions_.size(); i++) {
+        output.writeMessage(4, regionSubscriptions_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, interactionClassHandle_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, defaultRegionSubscribed_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, defaultRegionSubscriptionPassive_);
+      }
+      for (int i = 0; i < regionSubscriptions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, regionSubscriptions_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.InteractionClassSubscription}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscriptionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_InteractionClassSubscription_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_InteractionClassSubscription_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.class, net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getRegionSubscriptionsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        interactionClassHandle_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        defaultRegionSubscribed_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        defaultRegionSubscriptionPassive_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (regionSubscriptionsBuilder_ == null) {
+          regionSubscriptions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          regionSubscriptionsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_InteractionClassSubscription_descriptor;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription getDefaultInstanceForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription build() {
+        net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription buildPartial() {
+        net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription result = new net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.interactionClassHandle_ = interactionClassHandle_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.defaultRegionSubscribed_ = defaultRegionSubscribed_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.defaultRegionSubscriptionPassive_ = defaultRegionSubscriptionPassive_;
+        if (regionSubscriptionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            regionSubscriptions_ = java.util.Collections.unmodifiableList(regionSubscriptions_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.regionSubscriptions_ = regionSubscriptions_;
+        } else {
+          result.regionSubscriptions_ = regionSubscriptionsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription) {
+          return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription other) {
+        if (other == net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.getDefaultInstance()) return this;
+        if (other.hasInteractionClassHandle()) {
+          setInteractionClassHandle(other.getInteractionClassHandle());
+        }
+        if (other.hasDefaultRegionSubscribed()) {
+          setDefaultRegionSubscribed(other.getDefaultRegionSubscribed());
+        }
+        if (other.hasDefaultRegionSubscriptionPassive()) {
+          setDefaultRegionSubscriptionPassive(other.getDefaultRegionSubscriptionPassive());
+        }
+        if (regionSubscriptionsBuilder_ == null) {
+          if (!other.regionSubscriptions_.isEmpty()) {
+            if (regionSubscriptions_.isEmpty()) {
+              regionSubscriptions_ = other.regionSubscriptions_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureRegionSubscriptionsIsMutable();
+              regionSubscriptions_.addAll(other.regionSubscriptions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.regionSubscriptions_.isEmpty()) {
+            if (regionSubscriptionsBuilder_.isEmpty()) {
+              regionSubscriptionsBuilder_.dispose();
+              regionSubscriptionsBuilder_ = null;
+              regionSubscriptions_ = other.regionSubscriptions_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              regionSubscriptionsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getRegionSubscriptionsFieldBuilder() : null;
+            } else {
+              regionSubscriptionsBuilder_.addAllMessages(other.regionSubscriptions_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasInteractionClassHandle()) {
+          
+          return false;
+        }
+        if (!hasDefaultRegionSubscribed()) {
+          
+          return false;
+        }
+        if (!hasDefaultRegionSubscriptionPassive()) {
+          
+          return false;
+        }
+        for (int i = 0; i < getRegionSubscriptionsCount(); i++) {
+          if (!getRegionSubscriptions(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint32 interactionClassHandle = 1;
+      private int interactionClassHandle_ ;
+      /**
+       * <code>required uint32 interactionClassHandle = 1;</code>
+       */
+      public boolean hasInteractionClassHandle() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 interactionClassHandle = 1;</code>
+       */
+      public int getInteractionClassHandle() {
+        return interactionClassHandle_;
+      }
+      /**
+       * <code>required uint32 interactionClassHandle = 1;</code>
+       */
+      public Builder setInteractionClassHandle(int value) {
+        bitField0_ |= 0x00000001;
+        interactionClassHandle_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 interactionClassHandle = 1;</code>
+       */
+      public Builder clearInteractionClassHandle() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        interactionClassHandle_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required bool defaultRegionSubscribed = 2;
+      private boolean defaultRegionSubscribed_ ;
+      /**
+       * <code>required bool defaultRegionSubscribed = 2;</code>
+       */
+      public boolean hasDefaultRegionSubscribed() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bool defaultRegionSubscribed = 2;</code>
+       */
+      public boolean getDefaultRegionSubscribed() {
+        return defaultRegionSubscribed_;
+      }
+      /**
+       * <code>required bool defaultRegionSubscribed = 2;</code>
+       */
+      public Builder setDefaultRegionSubscribed(boolean value) {
+        bitField0_ |= 0x00000002;
+        defaultRegionSubscribed_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool defaultRegionSubscribed = 2;</code>
+       */
+      public Builder clearDefaultRegionSubscribed() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        defaultRegionSubscribed_ = false;
+        onChanged();
+        return this;
+      }
+
+      // required bool defaultRegionSubscriptionPassive = 3;
+      private boolean defaultRegionSubscriptionPassive_ ;
+      /**
+       * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+       */
+      public boolean hasDefaultRegionSubscriptionPassive() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+       */
+      public boolean getDefaultRegionSubscriptionPassive() {
+        return defaultRegionSubscriptionPassive_;
+      }
+      /**
+       * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+       */
+      public Builder setDefaultRegionSubscriptionPassive(boolean value) {
+        bitField0_ |= 0x00000004;
+        defaultRegionSubscriptionPassive_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool defaultRegionSubscriptionPassive = 3;</code>
+       */
+      public Builder clearDefaultRegionSubscriptionPassive() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        defaultRegionSubscriptionPassive_ = false;
+        onChanged();
+        return this;
+      }
+
+      // repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;
+      private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription> regionSubscriptions_ =
+        java.util.Collections.emptyList();
+      private void ensureRegionSubscriptionsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          regionSubscriptions_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription>(regionSubscriptions_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder> regionSubscriptionsBuilder_;
+
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription> getRegionSubscriptionsList() {
+        if (regionSubscriptionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(regionSubscriptions_);
+        } else {
+          return regionSubscriptionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public int getRegionSubscriptionsCount() {
+        if (regionSubscriptionsBuilder_ == null) {
+          return regionSubscriptions_.size();
+        } else {
+          return regionSubscriptionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription getRegionSubscriptions(int index) {
+        if (regionSubscriptionsBuilder_ == null) {
+          return regionSubscriptions_.get(index);
+        } else {
+          return regionSubscriptionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder setRegionSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription value) {
+        if (regionSubscriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRegionSubscriptionsIsMutable();
+          regionSubscriptions_.set(index, value);
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder setRegionSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder builderForValue) {
+        if (regionSubscriptionsBuilder_ == null) {
+          ensureRegionSubscriptionsIsMutable();
+          regionSubscriptions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder addRegionSubscriptions(net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription value) {
+        if (regionSubscriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRegionSubscriptionsIsMutable();
+          regionSubscriptions_.add(value);
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder addRegionSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription value) {
+        if (regionSubscriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRegionSubscriptionsIsMutable();
+          regionSubscriptions_.add(index, value);
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder addRegionSubscriptions(
+          net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder builderForValue) {
+        if (regionSubscriptionsBuilder_ == null) {
+          ensureRegionSubscriptionsIsMutable();
+          regionSubscriptions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder addRegionSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder builderForValue) {
+        if (regionSubscriptionsBuilder_ == null) {
+          ensureRegionSubscriptionsIsMutable();
+          regionSubscriptions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder addAllRegionSubscriptions(
+          java.lang.Iterable<? extends net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription> values) {
+        if (regionSubscriptionsBuilder_ == null) {
+          ensureRegionSubscriptionsIsMutable();
+          super.addAll(values, regionSubscriptions_);
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder clearRegionSubscriptions() {
+        if (regionSubscriptionsBuilder_ == null) {
+          regionSubscriptions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public Builder removeRegionSubscriptions(int index) {
+        if (regionSubscriptionsBuilder_ == null) {
+          ensureRegionSubscriptionsIsMutable();
+          regionSubscriptions_.remove(index);
+          onChanged();
+        } else {
+          regionSubscriptionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder getRegionSubscriptionsBuilder(
+          int index) {
+        return getRegionSubscriptionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder getRegionSubscriptionsOrBuilder(
+          int index) {
+        if (regionSubscriptionsBuilder_ == null) {
+          return regionSubscriptions_.get(index);  } else {
+          return regionSubscriptionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder> 
+           getRegionSubscriptionsOrBuilderList() {
+        if (regionSubscriptionsBuilder_ != null) {
+          return regionSubscriptionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(regionSubscriptions_);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder addRegionSubscriptionsBuilder() {
+        return getRegionSubscriptionsFieldBuilder().addBuilder(
+            net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder addRegionSubscriptionsBuilder(
+          int index) {
+        return getRegionSubscriptionsFieldBuilder().addBuilder(
+            index, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.RegionSubscription regionSubscriptions = 4;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder> 
+           getRegionSubscriptionsBuilderList() {
+        return getRegionSubscriptionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder> 
+          getRegionSubscriptionsFieldBuilder() {
+        if (regionSubscriptionsBuilder_ == null) {
+          regionSubscriptionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.RegionSubscriptionOrBuilder>(
+                  regionSubscriptions_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          regionSubscriptions_ = null;
+        }
+        return regionSubscriptionsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.proto.InteractionClassSubscription)
+    }
+
+    static {
+      defaultInstance = new InteractionClassSubscription(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.proto.InteractionClassSubscription)
+  }
+
+  public interface SubscriptionManagerStateOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;
+    /**
+     * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+     */
+    java.util.List<net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription> 
+        getObjectClassSubscriptionsList();
+    /**
+     * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription getObjectClassSubscriptions(int index);
+    /**
+     * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+     */
+    int getObjectClassSubscriptionsCount();
+    /**
+     * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+     */
+    java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscriptionOrBuilder> 
+        getObjectClassSubscriptionsOrBuilderList();
+    /**
+     * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscriptionOrBuilder getObjectClassSubscriptionsOrBuilder(
+        int index);
+
+    // repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;
+    /**
+     * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+     */
+    java.util.List<net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription> 
+        getInteractionClassSubscriptionsList();
+    /**
+     * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription getInteractionClassSubscriptions(int index);
+    /**
+     * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+     */
+    int getInteractionClassSubscriptionsCount();
+    /**
+     * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+     */
+    java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscriptionOrBuilder> 
+        getInteractionClassSubscriptionsOrBuilderList();
+    /**
+     * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscriptionOrBuilder getInteractionClassSubscriptionsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code ohla.rti.proto.SubscriptionManagerState}
+   */
+  public static final class SubscriptionManagerState extends
+      com.google.protobuf.GeneratedMessage
+      implements SubscriptionManagerStateOrBuilder {
+    // Use SubscriptionManagerState.newBuilder() to construct.
+    private SubscriptionManagerState(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SubscriptionManagerState(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final SubscriptionManagerState defaultInstance;
+    public static SubscriptionManagerState getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public SubscriptionManagerState getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SubscriptionManagerState(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                objectClassSubscriptions_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              objectClassSubscriptions_.add(input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.PARSER, extensionRegistry));
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                interactionClassSubscriptions_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              interactionClassSubscriptions_.add(input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          objectClassSubscriptions_ = java.util.Collections.unmodifiableList(objectClassSubscriptions_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          interactionClassSubscriptions_ = java.util.Collections.unmodifiableList(interactionClassSubscriptions_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_SubscriptionManagerState_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_SubscriptionManagerState_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState.class, net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<SubscriptionManagerState> PARSER =
+        new com.google.protobuf.AbstractParser<SubscriptionManagerState>() {
+      public SubscriptionManagerState parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SubscriptionManagerState(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SubscriptionManagerState> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;
+    public static final int OBJECTCLASSSUBSCRIPTIONS_FIELD_NUMBER = 1;
+    private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription> objectClassSubscriptions_;
+    /**
+     * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+     */
+    public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription> getObjectClassSubscriptionsList() {
+      return objectClassSubscriptions_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+     */
+    public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscriptionOrBuilder> 
+        getObjectClassSubscriptionsOrBuilderList() {
+      return objectClassSubscriptions_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+     */
+    public int getObjectClassSubscriptionsCount() {
+      return objectClassSubscriptions_.size();
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription getObjectClassSubscriptions(int index) {
+      return objectClassSubscriptions_.get(index);
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscriptionOrBuilder getObjectClassSubscriptionsOrBuilder(
+        int index) {
+      return objectClassSubscriptions_.get(index);
+    }
+
+    // repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;
+    public static final int INTERACTIONCLASSSUBSCRIPTIONS_FIELD_NUMBER = 2;
+    private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription> interactionClassSubscriptions_;
+    /**
+     * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+     */
+    public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription> getInteractionClassSubscriptionsList() {
+      return interactionClassSubscriptions_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+     */
+    public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscriptionOrBuilder> 
+        getInteractionClassSubscriptionsOrBuilderList() {
+      return interactionClassSubscriptions_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+     */
+    public int getInteractionClassSubscriptionsCount() {
+      return interactionClassSubscriptions_.size();
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription getInteractionClassSubscriptions(int index) {
+      return interactionClassSubscriptions_.get(index);
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscriptionOrBuilder getInteractionClassSubscriptionsOrBuilder(
+        int index) {
+      return interactionClassSubscriptions_.get(index);
+    }
+
+    private void initFields() {
+      objectClassSubscriptions_ = java.util.Collections.emptyList();
+      interactionClassSubscriptions_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getObjectClassSubscriptionsCount(); i++) {
+        if (!getObjectClassSubscriptions(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getInteractionClassSubscriptionsCount(); i++) {
+        if (!getInteractionClassSubscriptions(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < objectClassSubscriptions_.size(); i++) {
+        output.writeMessage(1, objectClassSubscriptions_.get(i));
+      }
+      for (int i = 0; i < interactionClassSubscriptions_.size(); i++) {
+        output.writeMessage(2, interactionClassSubscriptions_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < objectClassSubscriptions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, objectClassSubscriptions_.get(i));
+      }
+      for (int i = 0; i < interactionClassSubscriptions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, interactionClassSubscriptions_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.SubscriptionManagerState}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerStateOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_SubscriptionManagerState_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_SubscriptionManagerState_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState.class, net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getObjectClassSubscriptionsFieldBuilder();
+          getInteractionClassSubscriptionsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (objectClassSubscriptionsBuilder_ == null) {
+          objectClassSubscriptions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          objectClassSubscriptionsBuilder_.clear();
+        }
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          interactionClassSubscriptions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          interactionClassSubscriptionsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_SubscriptionManagerState_descriptor;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState getDefaultInstanceForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState build() {
+        net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState buildPartial() {
+        net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState result = new net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState(this);
+        int from_bitField0_ = bitField0_;
+        if (objectClassSubscriptionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            objectClassSubscriptions_ = java.util.Collections.unmodifiableList(objectClassSubscriptions_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.objectClassSubscriptions_ = objectClassSubscriptions_;
+        } else {
+          result.objectClassSubscriptions_ = objectClassSubscriptionsBuilder_.build();
+        }
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            interactionClassSubscriptions_ = java.util.Collections.unmodifiableList(interactionClassSubscriptions_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.interactionClassSubscriptions_ = interactionClassSubscriptions_;
+        } else {
+          result.interactionClassSubscriptions_ = interactionClassSubscriptionsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState) {
+          return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState other) {
+        if (other == net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState.getDefaultInstance()) return this;
+        if (objectClassSubscriptionsBuilder_ == null) {
+          if (!other.objectClassSubscriptions_.isEmpty()) {
+            if (objectClassSubscriptions_.isEmpty()) {
+              objectClassSubscriptions_ = other.objectClassSubscriptions_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureObjectClassSubscriptionsIsMutable();
+              objectClassSubscriptions_.addAll(other.objectClassSubscriptions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.objectClassSubscriptions_.isEmpty()) {
+            if (objectClassSubscriptionsBuilder_.isEmpty()) {
+              objectClassSubscriptionsBuilder_.dispose();
+              objectClassSubscriptionsBuilder_ = null;
+              objectClassSubscriptions_ = other.objectClassSubscriptions_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              objectClassSubscriptionsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getObjectClassSubscriptionsFieldBuilder() : null;
+            } else {
+              objectClassSubscriptionsBuilder_.addAllMessages(other.objectClassSubscriptions_);
+            }
+          }
+        }
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          if (!other.interactionClassSubscriptions_.isEmpty()) {
+            if (interactionClassSubscriptions_.isEmpty()) {
+              interactionClassSubscriptions_ = other.interactionClassSubscriptions_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureInteractionClassSubscriptionsIsMutable();
+              interactionClassSubscriptions_.addAll(other.interactionClassSubscriptions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.interactionClassSubscriptions_.isEmpty()) {
+            if (interactionClassSubscriptionsBuilder_.isEmpty()) {
+              interactionClassSubscriptionsBuilder_.dispose();
+              interactionClassSubscriptionsBuilder_ = null;
+              interactionClassSubscriptions_ = other.interactionClassSubscriptions_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              interactionClassSubscriptionsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getInteractionClassSubscriptionsFieldBuilder() : null;
+            } else {
+              interactionClassSubscriptionsBuilder_.addAllMessages(other.interactionClassSubscriptions_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getObjectClassSubscriptionsCount(); i++) {
+          if (!getObjectClassSubscriptions(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getInteractionClassSubscriptionsCount(); i++) {
+          if (!getInteractionClassSubscriptions(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.SubscriptionManagerState) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;
+      private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription> objectClassSubscriptions_ =
+        java.util.Collections.emptyList();
+      private void ensureObjectClassSubscriptionsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          objectClassSubscriptions_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription>(objectClassSubscriptions_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription, net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscriptionOrBuilder> objectClassSubscriptionsBuilder_;
+
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription> getObjectClassSubscriptionsList() {
+        if (objectClassSubscriptionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(objectClassSubscriptions_);
+        } else {
+          return objectClassSubscriptionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public int getObjectClassSubscriptionsCount() {
+        if (objectClassSubscriptionsBuilder_ == null) {
+          return objectClassSubscriptions_.size();
+        } else {
+          return objectClassSubscriptionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription getObjectClassSubscriptions(int index) {
+        if (objectClassSubscriptionsBuilder_ == null) {
+          return objectClassSubscriptions_.get(index);
+        } else {
+          return objectClassSubscriptionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public Builder setObjectClassSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription value) {
+        if (objectClassSubscriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjectClassSubscriptionsIsMutable();
+          objectClassSubscriptions_.set(index, value);
+          onChanged();
+        } else {
+          objectClassSubscriptionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public Builder setObjectClassSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.Builder builderForValue) {
+        if (objectClassSubscriptionsBuilder_ == null) {
+          ensureObjectClassSubscriptionsIsMutable();
+          objectClassSubscriptions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          objectClassSubscriptionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public Builder addObjectClassSubscriptions(net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription value) {
+        if (objectClassSubscriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjectClassSubscriptionsIsMutable();
+          objectClassSubscriptions_.add(value);
+          onChanged();
+        } else {
+          objectClassSubscriptionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public Builder addObjectClassSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription value) {
+        if (objectClassSubscriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjectClassSubscriptionsIsMutable();
+          objectClassSubscriptions_.add(index, value);
+          onChanged();
+        } else {
+          objectClassSubscriptionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public Builder addObjectClassSubscriptions(
+          net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.Builder builderForValue) {
+        if (objectClassSubscriptionsBuilder_ == null) {
+          ensureObjectClassSubscriptionsIsMutable();
+          objectClassSubscriptions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          objectClassSubscriptionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public Builder addObjectClassSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.Builder builderForValue) {
+        if (objectClassSubscriptionsBuilder_ == null) {
+          ensureObjectClassSubscriptionsIsMutable();
+          objectClassSubscriptions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          objectClassSubscriptionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public Builder addAllObjectClassSubscriptions(
+          java.lang.Iterable<? extends net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription> values) {
+        if (objectClassSubscriptionsBuilder_ == null) {
+          ensureObjectClassSubscriptionsIsMutable();
+          super.addAll(values, objectClassSubscriptions_);
+          onChanged();
+        } else {
+          objectClassSubscriptionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public Builder clearObjectClassSubscriptions() {
+        if (objectClassSubscriptionsBuilder_ == null) {
+          objectClassSubscriptions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          objectClassSubscriptionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public Builder removeObjectClassSubscriptions(int index) {
+        if (objectClassSubscriptionsBuilder_ == null) {
+          ensureObjectClassSubscriptionsIsMutable();
+          objectClassSubscriptions_.remove(index);
+          onChanged();
+        } else {
+          objectClassSubscriptionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.Builder getObjectClassSubscriptionsBuilder(
+          int index) {
+        return getObjectClassSubscriptionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscriptionOrBuilder getObjectClassSubscriptionsOrBuilder(
+          int index) {
+        if (objectClassSubscriptionsBuilder_ == null) {
+          return objectClassSubscriptions_.get(index);  } else {
+          return objectClassSubscriptionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscriptionOrBuilder> 
+           getObjectClassSubscriptionsOrBuilderList() {
+        if (objectClassSubscriptionsBuilder_ != null) {
+          return objectClassSubscriptionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(objectClassSubscriptions_);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.Builder addObjectClassSubscriptionsBuilder() {
+        return getObjectClassSubscriptionsFieldBuilder().addBuilder(
+            net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.Builder addObjectClassSubscriptionsBuilder(
+          int index) {
+        return getObjectClassSubscriptionsFieldBuilder().addBuilder(
+            index, net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.ObjectClassSubscription objectClassSubscriptions = 1;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.Builder> 
+           getObjectClassSubscriptionsBuilderList() {
+        return getObjectClassSubscriptionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription, net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscriptionOrBuilder> 
+          getObjectClassSubscriptionsFieldBuilder() {
+        if (objectClassSubscriptionsBuilder_ == null) {
+          objectClassSubscriptionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription, net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.ObjectClassSubscriptionOrBuilder>(
+                  objectClassSubscriptions_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          objectClassSubscriptions_ = null;
+        }
+        return objectClassSubscriptionsBuilder_;
+      }
+
+      // repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;
+      private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription> interactionClassSubscriptions_ =
+        java.util.Collections.emptyList();
+      private void ensureInteractionClassSubscriptionsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          interactionClassSubscriptions_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription>(interactionClassSubscriptions_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription, net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscriptionOrBuilder> interactionClassSubscriptionsBuilder_;
+
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription> getInteractionClassSubscriptionsList() {
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(interactionClassSubscriptions_);
+        } else {
+          return interactionClassSubscriptionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public int getInteractionClassSubscriptionsCount() {
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          return interactionClassSubscriptions_.size();
+        } else {
+          return interactionClassSubscriptionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription getInteractionClassSubscriptions(int index) {
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          return interactionClassSubscriptions_.get(index);
+        } else {
+          return interactionClassSubscriptionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public Builder setInteractionClassSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription value) {
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInteractionClassSubscriptionsIsMutable();
+          interactionClassSubscriptions_.set(index, value);
+          onChanged();
+        } else {
+          interactionClassSubscriptionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public Builder setInteractionClassSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.Builder builderForValue) {
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          ensureInteractionClassSubscriptionsIsMutable();
+          interactionClassSubscriptions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          interactionClassSubscriptionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public Builder addInteractionClassSubscriptions(net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription value) {
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInteractionClassSubscriptionsIsMutable();
+          interactionClassSubscriptions_.add(value);
+          onChanged();
+        } else {
+          interactionClassSubscriptionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public Builder addInteractionClassSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription value) {
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInteractionClassSubscriptionsIsMutable();
+          interactionClassSubscriptions_.add(index, value);
+          onChanged();
+        } else {
+          interactionClassSubscriptionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public Builder addInteractionClassSubscriptions(
+          net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.Builder builderForValue) {
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          ensureInteractionClassSubscriptionsIsMutable();
+          interactionClassSubscriptions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          interactionClassSubscriptionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public Builder addInteractionClassSubscriptions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.Builder builderForValue) {
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          ensureInteractionClassSubscriptionsIsMutable();
+          interactionClassSubscriptions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          interactionClassSubscriptionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public Builder addAllInteractionClassSubscriptions(
+          java.lang.Iterable<? extends net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription> values) {
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          ensureInteractionClassSubscriptionsIsMutable();
+          super.addAll(values, interactionClassSubscriptions_);
+          onChanged();
+        } else {
+          interactionClassSubscriptionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public Builder clearInteractionClassSubscriptions() {
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          interactionClassSubscriptions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          interactionClassSubscriptionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public Builder removeInteractionClassSubscriptions(int index) {
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          ensureInteractionClassSubscriptionsIsMutable();
+          interactionClassSubscriptions_.remove(index);
+          onChanged();
+        } else {
+          interactionClassSubscriptionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.Builder getInteractionClassSubscriptionsBuilder(
+          int index) {
+        return getInteractionClassSubscriptionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscriptionOrBuilder getInteractionClassSubscriptionsOrBuilder(
+          int index) {
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          return interactionClassSubscriptions_.get(index);  } else {
+          return interactionClassSubscriptionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscriptionOrBuilder> 
+           getInteractionClassSubscriptionsOrBuilderList() {
+        if (interactionClassSubscriptionsBuilder_ != null) {
+          return interactionClassSubscriptionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(interactionClassSubscriptions_);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.Builder addInteractionClassSubscriptionsBuilder() {
+        return getInteractionClassSubscriptionsFieldBuilder().addBuilder(
+            net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.Builder addInteractionClassSubscriptionsBuilder(
+          int index) {
+        return getInteractionClassSubscriptionsFieldBuilder().addBuilder(
+            index, net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.InteractionClassSubscription interactionClassSubscriptions = 2;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.Builder> 
+           getInteractionClassSubscriptionsBuilderList() {
+        return getInteractionClassSubscriptionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription, net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscriptionOrBuilder> 
+          getInteractionClassSubscriptionsFieldBuilder() {
+        if (interactionClassSubscriptionsBuilder_ == null) {
+          interactionClassSubscriptionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription, net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscription.Builder, net.sf.ohla.rti.proto.OHLAProtos.InteractionClassSubscriptionOrBuilder>(
+                  interactionClassSubscriptions_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          interactionClassSubscriptions_ = null;
+        }
+        return interactionClassSubscriptionsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.proto.SubscriptionManagerState)
+    }
+
+    static {
+      defaultInstance = new SubscriptionManagerState(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.proto.SubscriptionManagerState)
+  }
+
+  public interface FDDOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated string sources = 1;
+    /**
+     * <code>repeated string sources = 1;</code>
+     */
+    java.util.List<java.lang.String>
+    getSourcesList();
+    /**
+     * <code>repeated string sources = 1;</code>
+     */
+    int getSourcesCount();
+    /**
+     * <code>repeated string sources = 1;</code>
+     */
+    java.lang.String getSources(int index);
+    /**
+     * <code>repeated string sources = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getSourcesBytes(int index);
+
+    // repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+     */
+    java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass> 
+        getObjectClassesList();
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass getObjectClasses(int index);
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+     */
+    int getObjectClassesCount();
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+     */
+    java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClassOrBuilder> 
+        getObjectClassesOrBuilderList();
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClassOrBuilder getObjectClassesOrBuilder(
+        int index);
+
+    // repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+     */
+    java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass> 
+        getInteractionClassesList();
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass getInteractionClasses(int index);
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+     */
+    int getInteractionClassesCount();
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+     */
+    java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClassOrBuilder> 
+        getInteractionClassesOrBuilderList();
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClassOrBuilder getInteractionClassesOrBuilder(
+        int index);
+
+    // repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+     */
+    java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension> 
+        getDimensionsList();
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension getDimensions(int index);
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+     */
+    int getDimensionsCount();
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+     */
+    java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.DimensionOrBuilder> 
+        getDimensionsOrBuilderList();
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.FDD.DimensionOrBuilder getDimensionsOrBuilder(
+        int index);
+
+    // required .ohla.rti.proto.FDD.FED fed = 5;
+    /**
+     * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+     */
+    boolean hasFed();
+    /**
+     * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.FDD.FED getFed();
+    /**
+     * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+     */
+    net.sf.ohla.rti.proto.OHLAProtos.FDD.FEDOrBuilder getFedOrBuilder();
+  }
+  /**
+   * Protobuf type {@code ohla.rti.proto.FDD}
+   */
+  public static final class FDD extends
+      com.google.protobuf.GeneratedMessage
+      implements FDDOrBuilder {
+    // Use FDD.newBuilder() to construct.
+    private FDD(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private FDD(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final FDD defaultInstance;
+    public static FDD getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public FDD getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private FDD(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                sources_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              sources_.add(input.readBytes());
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                objectClasses_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              objectClasses_.add(input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.PARSER, extensionRegistry));
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                interactionClasses_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              interactionClasses_.add(input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.PARSER, extensionRegistry));
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                dimensions_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              dimensions_.add(input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.PARSER, extensionRegistry));
+              break;
+            }
+            case 42: {
+              net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = fed_.toBuilder();
+              }
+              fed_ = input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fed_);
+                fed_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          sources_ = new com.google.protobuf.UnmodifiableLazyStringList(sources_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          objectClasses_ = java.util.Collections.unmodifiableList(objectClasses_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          interactionClasses_ = java.util.Collections.unmodifiableList(interactionClasses_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          dimensions_ = java.util.Collections.unmodifiableList(dimensions_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              net.sf.ohla.rti.proto.OHLAProtos.FDD.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<FDD> PARSER =
+        new com.google.protobuf.AbstractParser<FDD>() {
+      public FDD parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new FDD(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FDD> getParserForType() {
+      return PARSER;
+    }
+
+    public interface DimensionOrBuilder
+        extends com.google.protobuf.MessageOrBuilder {
+
+      // required uint32 dimensionHandle = 1;
+      /**
+       * <code>required uint32 dimensionHandle = 1;</code>
+       */
+      boolean hasDimensionHandle();
+      /**
+       * <code>required uint32 dimensionHandle = 1;</code>
+       */
+      int getDimensionHandle();
+
+      // required string dimensionName = 2;
+      /**
+       * <code>required string dimensionName = 2;</code>
+       */
+      boolean hasDimensionName();
+      /**
+       * <code>required string dimensionName = 2;</code>
+       */
+      java.lang.String getDimensionName();
+      /**
+       * <code>required string dimensionName = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getDimensionNameBytes();
+
+      // required uint64 upperBound = 3;
+      /**
+       * <code>required uint64 upperBound = 3;</code>
+       */
+      boolean hasUpperBound();
+      /**
+       * <code>required uint64 upperBound = 3;</code>
+       */
+      long getUpperBound();
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.FDD.Dimension}
+     */
+    public static final class Dimension extends
+        com.google.protobuf.GeneratedMessage
+        implements DimensionOrBuilder {
+      // Use Dimension.newBuilder() to construct.
+      private Dimension(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private Dimension(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final Dimension defaultInstance;
+      public static Dimension getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public Dimension getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Dimension(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 8: {
+                bitField0_ |= 0x00000001;
+                dimensionHandle_ = input.readUInt32();
+                break;
+              }
+              case 18: {
+                bitField0_ |= 0x00000002;
+                dimensionName_ = input.readBytes();
+                break;
+              }
+              case 24: {
+                bitField0_ |= 0x00000004;
+                upperBound_ = input.readUInt64();
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_Dimension_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_Dimension_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<Dimension> PARSER =
+          new com.google.protobuf.AbstractParser<Dimension>() {
+        public Dimension parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Dimension(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Dimension> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      // required uint32 dimensionHandle = 1;
+      public static final int DIMENSIONHANDLE_FIELD_NUMBER = 1;
+      private int dimensionHandle_;
+      /**
+       * <code>required uint32 dimensionHandle = 1;</code>
+       */
+      public boolean hasDimensionHandle() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 dimensionHandle = 1;</code>
+       */
+      public int getDimensionHandle() {
+        return dimensionHandle_;
+      }
+
+      // required string dimensionName = 2;
+      public static final int DIMENSIONNAME_FIELD_NUMBER = 2;
+      private java.lang.Object dimensionName_;
+      /**
+       * <code>required string dimensionName = 2;</code>
+       */
+      public boolean hasDimensionName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string dimensionName = 2;</code>
+       */
+      public java.lang.String getDimensionName() {
+        java.lang.Object ref = dimensionName_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            dimensionName_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>required string dimensionName = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDimensionNameBytes() {
+        java.lang.Object ref = dimensionName_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dimensionName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      // required uint64 upperBound = 3;
+      public static final int UPPERBOUND_FIELD_NUMBER = 3;
+      private long upperBound_;
+      /**
+       * <code>required uint64 upperBound = 3;</code>
+       */
+      public boolean hasUpperBound() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required uint64 upperBound = 3;</code>
+       */
+      public long getUpperBound() {
+        return upperBound_;
+      }
+
+      private void initFields() {
+        dimensionHandle_ = 0;
+        dimensionName_ = "";
+        upperBound_ = 0L;
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized != -1) return isInitialized == 1;
+
+        if (!hasDimensionHandle()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        if (!hasDimensionName()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        if (!hasUpperBound()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeUInt32(1, dimensionHandle_);
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getDimensionNameBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeUInt64(3, upperBound_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(1, dimensionHandle_);
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getDimensionNameBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt64Size(3, upperBound_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ohla.rti.proto.FDD.Dimension}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder>
+         implements net.sf.ohla.rti.proto.OHLAProtos.FDD.DimensionOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_Dimension_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_Dimension_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.Builder.class);
+        }
+
+        // Construct using net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          dimensionHandle_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          dimensionName_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          upperBound_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000004);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_Dimension_descriptor;
+        }
+
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension getDefaultInstanceForType() {
+          return net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.getDefaultInstance();
+        }
+
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension build() {
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension buildPartial() {
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension result = new net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.dimensionHandle_ = dimensionHandle_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.dimensionName_ = dimensionName_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.upperBound_ = upperBound_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension) {
+            return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension other) {
+          if (other == net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.getDefaultInstance()) return this;
+          if (other.hasDimensionHandle()) {
+            setDimensionHandle(other.getDimensionHandle());
+          }
+          if (other.hasDimensionName()) {
+            bitField0_ |= 0x00000002;
+            dimensionName_ = other.dimensionName_;
+            onChanged();
+          }
+          if (other.hasUpperBound()) {
+            setUpperBound(other.getUpperBound());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          if (!hasDimensionHandle()) {
+            
+            return false;
+          }
+          if (!hasDimensionName()) {
+            
+            return false;
+          }
+          if (!hasUpperBound()) {
+            
+            return false;
+          }
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        // required uint32 dimensionHandle = 1;
+        private int dimensionHandle_ ;
+        /**
+         * <code>required uint32 dimensionHandle = 1;</code>
+         */
+        public boolean hasDimensionHandle() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>required uint32 dimensionHandle = 1;</code>
+         */
+        public int getDimensionHandle() {
+          return dimensionHandle_;
+        }
+        /**
+         * <code>required uint32 dimensionHandle = 1;</code>
+         */
+        public Builder setDimensionHandle(int value) {
+          bitField0_ |= 0x00000001;
+          dimensionHandle_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required uint32 dimensionHandle = 1;</code>
+         */
+        public Builder clearDimensionHandle() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          dimensionHandle_ = 0;
+          onChanged();
+          return this;
+        }
+
+        // required string dimensionName = 2;
+        private java.lang.Object dimensionName_ = "";
+        /**
+         * <code>required string dimensionName = 2;</code>
+         */
+        public boolean hasDimensionName() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>required string dimensionName = 2;</code>
+         */
+        public java.lang.String getDimensionName() {
+          java.lang.Object ref = dimensionName_;
+          if (!(ref instanceof java.lang.String)) {
+            java.lang.String s = ((com.google.protobuf.ByteString) ref)
+                .toStringUtf8();
+            dimensionName_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>required string dimensionName = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getDimensionNameBytes() {
+          java.lang.Object ref = dimensionName_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            dimensionName_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>required string dimensionName = 2;</code>
+         */
+        public Builder setDimensionName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          dimensionName_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required string dimensionName = 2;</code>
+         */
+        public Builder clearDimensionName() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          dimensionName_ = getDefaultInstance().getDimensionName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required string dimensionName = 2;</code>
+         */
+        public Builder setDimensionNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          dimensionName_ = value;
+          onChanged();
+          return this;
+        }
+
+        // required uint64 upperBound = 3;
+        private long upperBound_ ;
+        /**
+         * <code>required uint64 upperBound = 3;</code>
+         */
+        public boolean hasUpperBound() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>required uint64 upperBound = 3;</code>
+         */
+        public long getUpperBound() {
+          return upperBound_;
+        }
+        /**
+         * <code>required uint64 upperBound = 3;</code>
+         */
+        public Builder setUpperBound(long value) {
+          bitField0_ |= 0x00000004;
+          upperBound_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required uint64 upperBound = 3;</code>
+         */
+        public Builder clearUpperBound() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          upperBound_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ohla.rti.proto.FDD.Dimension)
+      }
+
+      static {
+        defaultInstance = new Dimension(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD.Dimension)
+    }
+
+    public interface ObjectClassOrBuilder
+        extends com.google.protobuf.MessageOrBuilder {
+
+      // required uint32 objectClassHandle = 1;
+      /**
+       * <code>required uint32 objectClassHandle = 1;</code>
+       */
+      boolean hasObjectClassHandle();
+      /**
+       * <code>required uint32 objectClassHandle = 1;</code>
+       */
+      int getObjectClassHandle();
+
+      // required string objectClassName = 2;
+      /**
+       * <code>required string objectClassName = 2;</code>
+       */
+      boolean hasObjectClassName();
+      /**
+       * <code>required string objectClassName = 2;</code>
+       */
+      java.lang.String getObjectClassName();
+      /**
+       * <code>required string objectClassName = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getObjectClassNameBytes();
+
+      // optional uint32 superObjectClassHandle = 3;
+      /**
+       * <code>optional uint32 superObjectClassHandle = 3;</code>
+       */
+      boolean hasSuperObjectClassHandle();
+      /**
+       * <code>optional uint32 superObjectClassHandle = 3;</code>
+       */
+      int getSuperObjectClassHandle();
+
+      // repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+       */
+      java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute> 
+          getAttributesList();
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+       */
+      net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute getAttributes(int index);
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+       */
+      int getAttributesCount();
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+       */
+      java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.AttributeOrBuilder> 
+          getAttributesOrBuilderList();
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+       */
+      net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.AttributeOrBuilder getAttributesOrBuilder(
+          int index);
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.FDD.ObjectClass}
+     */
+    public static final class ObjectClass extends
+        com.google.protobuf.GeneratedMessage
+        implements ObjectClassOrBuilder {
+      // Use ObjectClass.newBuilder() to construct.
+      private ObjectClass(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private ObjectClass(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final ObjectClass defaultInstance;
+      public static ObjectClass getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public ObjectClass getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private ObjectClass(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 8: {
+                bitField0_ |= 0x00000001;
+                objectClassHandle_ = input.readUInt32();
+                break;
+              }
+              case 18: {
+                bitField0_ |= 0x00000002;
+                objectClassName_ = input.readBytes();
+                break;
+              }
+              case 24: {
+                bitField0_ |= 0x00000004;
+                superObjectClassHandle_ = input.readUInt32();
+                break;
+              }
+              case 34: {
+                if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                  attributes_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute>();
+                  mutable_bitField0_ |= 0x00000008;
+                }
+                attributes_.add(input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.PARSER, extensionRegistry));
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+            attributes_ = java.util.Collections.unmodifiableList(attributes_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_ObjectClass_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_ObjectClass_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<ObjectClass> PARSER =
+          new com.google.protobuf.AbstractParser<ObjectClass>() {
+        public ObjectClass parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new ObjectClass(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<ObjectClass> getParserForType() {
+        return PARSER;
+      }
+
+      public interface AttributeOrBuilder
+          extends com.google.protobuf.MessageOrBuilder {
+
+        // required uint32 attributeHandle = 1;
+        /**
+         * <code>required uint32 attributeHandle = 1;</code>
+         */
+        boolean hasAttributeHandle();
+        /**
+         * <code>required uint32 attributeHandle = 1;</code>
+         */
+        int getAttributeHandle();
+
+        // required string attributeName = 2;
+        /**
+         * <code>required string attributeName = 2;</code>
+         */
+        boolean hasAttributeName();
+        /**
+         * <code>required string attributeName = 2;</code>
+         */
+        java.lang.String getAttributeName();
+        /**
+         * <code>required string attributeName = 2;</code>
+         */
+        com.google.protobuf.ByteString
+            getAttributeNameBytes();
+
+        // repeated uint32 dimensionHandles = 3;
+        /**
+         * <code>repeated uint32 dimensionHandles = 3;</code>
+         */
+        java.util.List<java.lang.Integer> getDimensionHandlesList();
+        /**
+         * <code>repeated uint32 dimensionHandles = 3;</code>
+         */
+        int getDimensionHandlesCount();
+        /**
+         * <code>repeated uint32 dimensionHandles = 3;</code>
+         */
+        int getDimensionHandles(int index);
+
+        // required uint32 transportationTypeHandle = 4;
+        /**
+         * <code>required uint32 transportationTypeHandle = 4;</code>
+         */
+        boolean hasTransportationTypeHandle();
+        /**
+         * <code>required uint32 transportationTypeHandle = 4;</code>
+         */
+        int getTransportationTypeHandle();
+
+        // required .ohla.rti.proto.OrderType orderType = 5;
+        /**
+         * <code>required .ohla.rti.proto.OrderType orderType = 5;</code>
+         */
+        boolean hasOrderType();
+        /**
+         * <code>required .ohla.rti.proto.OrderType orderType = 5;</code>
+         */
+        net.sf.ohla.rti.proto.OHLAProtos.OrderType getOrderType();
+      }
+      /**
+       * Protobuf type {@code ohla.rti.proto.FDD.ObjectClass.Attribute}
+       */
+      public static final class Attribute extends
+          com.google.protobuf.GeneratedMessage
+          implements AttributeOrBuilder {
+        // Use Attribute.newBuilder() to construct.
+        private Attribute(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+          super(builder);
+          this.unknownFields = builder.getUnknownFields();
+        }
+        private Attribute(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+        private static final Attribute defaultInstance;
+        public static Attribute getDefaultInstance() {
+          return defaultInstance;
+        }
+
+        public Attribute getDefaultInstanceForType() {
+          return defaultInstance;
+        }
+
+        private final com.google.protobuf.UnknownFieldSet unknownFields;
+        @java.lang.Override
+        public final com.google.protobuf.UnknownFieldSet
+            getUnknownFields() {
+          return this.unknownFields;
+        }
+        private Attribute(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          initFields();
+          int mutable_bitField0_ = 0;
+          com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+              com.google.protobuf.UnknownFieldSet.newBuilder();
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                default: {
+                  if (!parseUnknownField(input, unknownFields,
+                                         extensionRegistry, tag)) {
+                    done = true;
+                  }
+                  break;
+                }
+                case 8: {
+                  bitField0_ |= 0x00000001;
+                  attributeHandle_ = input.readUInt32();
+                  break;
+                }
+                case 18: {
+                  bitField0_ |= 0x00000002;
+                  attributeName_ = input.readBytes();
+                  break;
+                }
+                case 24: {
+                  if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                    dimensionHandles_ = new java.util.ArrayList<java.lang.Integer>();
+                    mutable_bitField0_ |= 0x00000004;
+                  }
+                  dimensionHandles_.add(input.readUInt32());
+                  break;
+                }
+                case 26: {
+                  int length = input.readRawVarint32();
+                  int limit = input.pushLimit(length);
+                  if (!((mutable_bitField0_ & 0x00000004) == 0x00000004) && input.getBytesUntilLimit() > 0) {
+                    dimensionHandles_ = new java.util.ArrayList<java.lang.Integer>();
+                    mutable_bitField0_ |= 0x00000004;
+                  }
+                  while (input.getBytesUntilLimit() > 0) {
+                    dimensionHandles_.add(input.readUInt32());
+                  }
+                  input.popLimit(limit);
+                  break;
+                }
+                case 32: {
+                  bitField0_ |= 0x00000004;
+                  transportationTypeHandle_ = input.readUInt32();
+                  break;
+                }
+                case 40: {
+                  int rawValue = input.readEnum();
+                  net.sf.ohla.rti.proto.OHLAProtos.OrderType value = net.sf.ohla.rti.proto.OHLAProtos.OrderType.valueOf(rawValue);
+                  if (value == null) {
+                    unknownFields.mergeVarintField(5, rawValue);
+                  } else {
+                    bitField0_ |= 0x00000008;
+                    orderType_ = value;
+                  }
+                  break;
+                }
+              }
+            }
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(this);
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this);
+          } finally {
+            if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+              dimensionHandles_ = java.util.Collections.unmodifiableList(dimensionHandles_);
+            }
+            this.unknownFields = unknownFields.build();
+            makeExtensionsImmutable();
+          }
+        }
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_ObjectClass_Attribute_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_ObjectClass_Attribute_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.Builder.class);
+        }
+
+        public static com.google.protobuf.Parser<Attribute> PARSER =
+            new com.google.protobuf.AbstractParser<Attribute>() {
+          public Attribute parsePartialFrom(
+              com.google.protobuf.CodedInputStream input,
+              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+              throws com.google.protobuf.InvalidProtocolBufferException {
+            return new Attribute(input, extensionRegistry);
+          }
+        };
+
+        @java.lang.Override
+        public com.google.protobuf.Parser<Attribute> getParserForType() {
+          return PARSER;
+        }
+
+        private int bitField0_;
+        // required uint32 attributeHandle = 1;
+        public static final int ATTRIBUTEHANDLE_FIELD_NUMBER = 1;
+        private int attributeHandle_;
+        /**
+         * <code>required uint32 attributeHandle = 1;</code>
+         */
+        public boolean hasAttributeHandle() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>required uint32 attributeHandle = 1;</code>
+         */
+        public int getAttributeHandle() {
+          return attributeHandle_;
+        }
+
+        // required string attributeName = 2;
+        public static final int ATTRIBUTENAME_FIELD_NUMBER = 2;
+        private java.lang.Object attributeName_;
+        /**
+         * <code>required string attributeName = 2;</code>
+         */
+        public boolean hasAttributeName() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>required string attributeName = 2;</code>
+         */
+        public java.lang.String getAttributeName() {
+          java.lang.Object ref = attributeName_;
+          if (ref instanceof java.lang.String) {
+            return (java.lang.String) ref;
+          } else {
+            com.google.protobuf.ByteString bs = 
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              attributeName_ = s;
+            }
+            return s;
+          }
+        }
+        /**
+         * <code>required string attributeName = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getAttributeNameBytes() {
+          java.lang.Object ref = attributeName_;
+          if (ref instanceof java.lang.String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            attributeName_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+
+        // repeated uint32 dimensionHandles = 3;
+        public static final int DIMENSIONHANDLES_FIELD_NUMBER = 3;
+        private java.util.List<java.lang.Integer> dimensionHandles_;
+        /**
+         * <code>repeated uint32 dimensionHandles = 3;</code>
+         */
+        public java.util.List<java.lang.Integer>
+            getDimensionHandlesList() {
+          return dimensionHandles_;
+        }
+        /**
+         * <code>repeated uint32 dimensionHandles = 3;</code>
+         */
+        public int getDimensionHandlesCount() {
+          return dimensionHandles_.size();
+        }
+        /**
+         * <code>repeated uint32 dimensionHandles = 3;</code>
+         */
+        public int getDimensionHandles(int index) {
+          return dimensionHandles_.get(index);
+        }
+
+        // required uint32 transportationTypeHandle = 4;
+        public static final int TRANSPORTATIONTYPEHANDLE_FIELD_NUMBER = 4;
+        private int transportationTypeHandle_;
+        /**
+         * <code>required uint32 transportationTypeHandle = 4;</code>
+         */
+        public boolean hasTransportationTypeHandle() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>required uint32 transportationTypeHandle = 4;</code>
+         */
+        public int getTransportationTypeHandle() {
+          return transportationTypeHandle_;
+        }
+
+        // required .ohla.rti.proto.OrderType orderType = 5;
+        public static final int ORDERTYPE_FIELD_NUMBER = 5;
+        private net.sf.ohla.rti.proto.OHLAProtos.OrderType orderType_;
+        /**
+         * <code>required .ohla.rti.proto.OrderType orderType = 5;</code>
+         */
+        public boolean hasOrderType() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>required .ohla.rti.proto.OrderType orderType = 5;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.OrderType getOrderType() {
+          return orderType_;
+        }
+
+        private void initFields() {
+          attributeHandle_ = 0;
+          attributeName_ = "";
+          dimensionHandles_ = java.util.Collections.emptyList();
+          transportationTypeHandle_ = 0;
+          orderType_ = net.sf.ohla.rti.proto.OHLAProtos.OrderType.RECEIVE;
+        }
+        private byte memoizedIsInitialized = -1;
+        public final boolean isInitialized() {
+          byte isInitialized = memoizedIsInitialized;
+          if (isInitialized != -1) return isInitialized == 1;
+
+          if (!hasAttributeHandle()) {
+            memoizedIsInitialized = 0;
+            return false;
+          }
+          if (!hasAttributeName()) {
+            memoizedIsInitialized = 0;
+            return false;
+          }
+          if (!hasTransportationTypeHandle()) {
+            memoizedIsInitialized = 0;
+            return false;
+          }
+          if (!hasOrderType()) {
+            memoizedIsInitialized = 0;
+            return false;
+          }
+          memoizedIsInitialized = 1;
+          return true;
+        }
+
+        public void writeTo(com.google.protobuf.CodedOutputStream output)
+                            throws java.io.IOException {
+          getSerializedSize();
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            output.writeUInt32(1, attributeHandle_);
+          }
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            output.writeBytes(2, getAttributeNameBytes());
+          }
+          for (int i = 0; i < dimensionHandles_.size(); i++) {
+            output.writeUInt32(3, dimensionHandles_.get(i));
+          }
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            output.writeUInt32(4, transportationTypeHandle_);
+          }
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            output.writeEnum(5, orderType_.getNumber());
+          }
+          getUnknownFields().writeTo(output);
+        }
+
+        private int memoizedSerializedSize = -1;
+        public int getSerializedSize() {
+          int size = memoizedSerializedSize;
+          if (size != -1) return size;
+
+          size = 0;
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            size += com.google.protobuf.CodedOutputStream
+              .computeUInt32Size(1, attributeHandle_);
+          }
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            size += com.google.protobuf.CodedOutputStream
+              .computeBytesSize(2, getAttributeNameBytes());
+          }
+          {
+            int dataSize = 0;
+            for (int i = 0; i < dimensionHandles_.size(); i++) {
+              dataSize += com.google.protobuf.CodedOutputStream
+                .computeUInt32SizeNoTag(dimensionHandles_.get(i));
+            }
+            size += dataSize;
+            size += 1 * getDimensionHandlesList().size();
+          }
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            size += com.google.protobuf.CodedOutputStream
+              .computeUInt32Size(4, transportationTypeHandle_);
+          }
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            size += com.google.protobuf.CodedOutputStream
+              .computeEnumSize(5, orderType_.getNumber());
+          }
+          size += getUnknownFields().getSerializedSize();
+          memoizedSerializedSize = size;
+          return size;
+        }
+
+        private static final long serialVersionUID = 0L;
+        @java.lang.Override
+        protected java.lang.Object writeReplace()
+            throws java.io.ObjectStreamException {
+          return super.writeReplace();
+        }
+
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute parseFrom(
+            com.google.protobuf.ByteString data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return PARSER.parseFrom(data);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute parseFrom(
+            com.google.protobuf.ByteString data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return PARSER.parseFrom(data, extensionRegistry);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute parseFrom(byte[] data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return PARSER.parseFrom(data);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute parseFrom(
+            byte[] data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return PARSER.parseFrom(data, extensionRegistry);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute parseFrom(java.io.InputStream input)
+            throws java.io.IOException {
+          return PARSER.parseFrom(input);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute parseFrom(
+            java.io.InputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          return PARSER.parseFrom(input, extensionRegistry);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute parseDelimitedFrom(java.io.InputStream input)
+            throws java.io.IOException {
+          return PARSER.parseDelimitedFrom(input);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute parseDelimitedFrom(
+            java.io.InputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          return PARSER.parseDelimitedFrom(input, extensionRegistry);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute parseFrom(
+            com.google.protobuf.CodedInputStream input)
+            throws java.io.IOException {
+          return PARSER.parseFrom(input);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute parseFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          return PARSER.parseFrom(input, extensionRegistry);
+        }
+
+        public static Builder newBuilder() { return Builder.create(); }
+        public Builder newBuilderForType() { return newBuilder(); }
+        public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute prototype) {
+          return newBuilder().mergeFrom(prototype);
+        }
+        public Builder toBuilder() { return newBuilder(this); }
+
+        @java.lang.Override
+        protected Builder newBuilderForType(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          Builder builder = new Builder(parent);
+          return builder;
+        }
+        /**
+         * Protobuf type {@code ohla.rti.proto.FDD.ObjectClass.Attribute}
+         */
+        public static final class Builder extends
+            com.google.protobuf.GeneratedMessage.Builder<Builder>
+           implements net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.AttributeOrBuilder {
+          public static final com.google.protobuf.Descriptors.Descriptor
+              getDescriptor() {
+            return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_ObjectClass_Attribute_descriptor;
+          }
+
+          protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+              internalGetFieldAccessorTable() {
+            return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_ObjectClass_Attribute_fieldAccessorTable
+                .ensureFieldAccessorsInitialized(
+                    net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.Builder.class);
+          }
+
+          // Construct using net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.newBuilder()
+          private Builder() {
+            maybeForceBuilderInitialization();
+          }
+
+          private Builder(
+              com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+            super(parent);
+            maybeForceBuilderInitialization();
+          }
+          private void maybeForceBuilderInitialization() {
+            if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            }
+          }
+          private static Builder create() {
+            return new Builder();
+          }
+
+          public Builder clear() {
+            super.clear();
+            attributeHandle_ = 0;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            attributeName_ = "";
+            bitField0_ = (bitField0_ & ~0x00000002);
+            dimensionHandles_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000004);
+            transportationTypeHandle_ = 0;
+            bitField0_ = (bitField0_ & ~0x00000008);
+            orderType_ = net.sf.ohla.rti.proto.OHLAProtos.OrderType.RECEIVE;
+            bitField0_ = (bitField0_ & ~0x00000010);
+            return this;
+          }
+
+          public Builder clone() {
+            return create().mergeFrom(buildPartial());
+          }
+
+          public com.google.protobuf.Descriptors.Descriptor
+              getDescriptorForType() {
+            return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_ObjectClass_Attribute_descriptor;
+          }
+
+          public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute getDefaultInstanceForType() {
+            return net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.getDefaultInstance();
+          }
+
+          public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute build() {
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute result = buildPartial();
+            if (!result.isInitialized()) {
+              throw newUninitializedMessageException(result);
+            }
+            return result;
+          }
+
+          public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute buildPartial() {
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute result = new net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute(this);
+            int from_bitField0_ = bitField0_;
+            int to_bitField0_ = 0;
+            if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+              to_bitField0_ |= 0x00000001;
+            }
+            result.attributeHandle_ = attributeHandle_;
+            if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+              to_bitField0_ |= 0x00000002;
+            }
+            result.attributeName_ = attributeName_;
+            if (((bitField0_ & 0x00000004) == 0x00000004)) {
+              dimensionHandles_ = java.util.Collections.unmodifiableList(dimensionHandles_);
+              bitField0_ = (bitField0_ & ~0x00000004);
+            }
+            result.dimensionHandles_ = dimensionHandles_;
+            if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+              to_bitField0_ |= 0x00000004;
+            }
+            result.transportationTypeHandle_ = transportationTypeHandle_;
+            if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+              to_bitField0_ |= 0x00000008;
+            }
+            result.orderType_ = orderType_;
+            result.bitField0_ = to_bitField0_;
+            onBuilt();
+            return result;
+          }
+
+          public Builder mergeFrom(com.google.protobuf.Message other) {
+            if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute) {
+              return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute)other);
+            } else {
+              super.mergeFrom(other);
+              return this;
+            }
+          }
+
+          public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute other) {
+            if (other == net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.getDefaultInstance()) return this;
+            if (other.hasAttributeHandle()) {
+              setAttributeHandle(other.getAttributeHandle());
+            }
+            if (other.hasAttributeName()) {
+              bitField0_ |= 0x00000002;
+              attributeName_ = other.attributeName_;
+              onChanged();
+            }
+            if (!other.dimensionHandles_.isEmpty()) {
+              if (dimensionHandles_.isEmpty()) {
+                dimensionHandles_ = other.dimensionHandles_;
+                bitField0_ = (bitField0_ & ~0x00000004);
+              } else {
+                ensureDimensionHandlesIsMutable();
+                dimensionHandles_.addAll(other.dimensionHandles_);
+              }
+              onChanged();
+            }
+            if (other.hasTransportationTypeHandle()) {
+              setTransportationTypeHandle(other.getTransportationTypeHandle());
+            }
+            if (other.hasOrderType()) {
+              setOrderType(other.getOrderType());
+            }
+            this.mergeUnknownFields(other.getUnknownFields());
+            return this;
+          }
+
+          public final boolean isInitialized() {
+            if (!hasAttributeHandle()) {
+              
+              return false;
+            }
+            if (!hasAttributeName()) {
+              
+              return false;
+            }
+            if (!hasTransportationTypeHandle()) {
+              
+              return false;
+            }
+            if (!hasOrderType()) {
+              
+              return false;
+            }
+            return true;
+          }
+
+          public Builder mergeFrom(
+              com.google.protobuf.CodedInputStream input,
+              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+              throws java.io.IOException {
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute parsedMessage = null;
+            try {
+              parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+              parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute) e.getUnfinishedMessage();
+              throw e;
+            } finally {
+              if (parsedMessage != null) {
+                mergeFrom(parsedMessage);
+              }
+            }
+            return this;
+          }
+          private int bitField0_;
+
+          // required uint32 attributeHandle = 1;
+          private int attributeHandle_ ;
+          /**
+           * <code>required uint32 attributeHandle = 1;</code>
+           */
+          public boolean hasAttributeHandle() {
+            return ((bitField0_ & 0x00000001) == 0x00000001);
+          }
+          /**
+           * <code>required uint32 attributeHandle = 1;</code>
+           */
+          public int getAttributeHandle() {
+            return attributeHandle_;
+          }
+          /**
+           * <code>required uint32 attributeHandle = 1;</code>
+           */
+          public Builder setAttributeHandle(int value) {
+            bitField0_ |= 0x00000001;
+            attributeHandle_ = value;
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>required uint32 attributeHandle = 1;</code>
+           */
+          public Builder clearAttributeHandle() {
+            bitField0_ = (bitField0_ & ~0x00000001);
+            attributeHandle_ = 0;
+            onChanged();
+            return this;
+          }
+
+          // required string attributeName = 2;
+          private java.lang.Object attributeName_ = "";
+          /**
+           * <code>required string attributeName = 2;</code>
+           */
+          public boolean hasAttributeName() {
+            return ((bitField0_ & 0x00000002) == 0x00000002);
+          }
+          /**
+           * <code>required string attributeName = 2;</code>
+           */
+          public java.lang.String getAttributeName() {
+            java.lang.Object ref = attributeName_;
+            if (!(ref instanceof java.lang.String)) {
+              java.lang.String s = ((com.google.protobuf.ByteString) ref)
+                  .toStringUtf8();
+              attributeName_ = s;
+              return s;
+            } else {
+              return (java.lang.String) ref;
+            }
+          }
+          /**
+           * <code>required string attributeName = 2;</code>
+           */
+          public com.google.protobuf.ByteString
+              getAttributeNameBytes() {
+            java.lang.Object ref = attributeName_;
+            if (ref instanceof String) {
+              com.google.protobuf.ByteString b = 
+                  com.google.protobuf.ByteString.copyFromUtf8(
+                      (java.lang.String) ref);
+              attributeName_ = b;
+              return b;
+            } else {
+              return (com.google.protobuf.ByteString) ref;
+            }
+          }
+          /**
+           * <code>required string attributeName = 2;</code>
+           */
+          public Builder setAttributeName(
+              java.lang.String value) {
+            if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+            attributeName_ = value;
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>required string attributeName = 2;</code>
+           */
+          public Builder clearAttributeName() {
+            bitField0_ = (bitField0_ & ~0x00000002);
+            attributeName_ = getDefaultInstance().getAttributeName();
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>required string attributeName = 2;</code>
+           */
+          public Builder setAttributeNameBytes(
+              com.google.protobuf.ByteString value) {
+            if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+            attributeName_ = value;
+            onChanged();
+            return this;
+          }
+
+          // repeated uint32 dimensionHandles = 3;
+          private java.util.List<java.lang.Integer> dimensionHandles_ = java.util.Collections.emptyList();
+          private void ensureDimensionHandlesIsMutable() {
+            if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+              dimensionHandles_ = new java.util.ArrayList<java.lang.Integer>(dimensionHandles_);
+              bitField0_ |= 0x00000004;
+             }
+          }
+          /**
+           * <code>repeated uint32 dimensionHandles = 3;</code>
+           */
+          public java.util.List<java.lang.Integer>
+              getDimensionHandlesList() {
+            return java.util.Collections.unmodifiableList(dimensionHandles_);
+          }
+          /**
+           * <code>repeated uint32 dimensionHandles = 3;</code>
+           */
+          public int getDimensionHandlesCount() {
+            return dimensionHandles_.size();
+          }
+          /**
+           * <code>repeated uint32 dimensionHandles = 3;</code>
+           */
+          public int getDimensionHandles(int index) {
+            return dimensionHandles_.get(index);
+          }
+          /**
+           * <code>repeated uint32 dimensionHandles = 3;</code>
+           */
+          public Builder setDimensionHandles(
+              int index, int value) {
+            ensureDimensionHandlesIsMutable();
+            dimensionHandles_.set(index, value);
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>repeated uint32 dimensionHandles = 3;</code>
+           */
+          public Builder addDimensionHandles(int value) {
+            ensureDimensionHandlesIsMutable();
+            dimensionHandles_.add(value);
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>repeated uint32 dimensionHandles = 3;</code>
+           */
+          public Builder addAllDimensionHandles(
+              java.lang.Iterable<? extends java.lang.Integer> values) {
+            ensureDimensionHandlesIsMutable();
+            super.addAll(values, dimensionHandles_);
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>repeated uint32 dimensionHandles = 3;</code>
+           */
+          public Builder clearDimensionHandles() {
+            dimensionHandles_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000004);
+            onChanged();
+            return this;
+          }
+
+          // required uint32 transportationTypeHandle = 4;
+          private int transportationTypeHandle_ ;
+          /**
+           * <code>required uint32 transportationTypeHandle = 4;</code>
+           */
+          public boolean hasTransportationTypeHandle() {
+            return ((bitField0_ & 0x00000008) == 0x00000008);
+          }
+          /**
+           * <code>required uint32 transportationTypeHandle = 4;</code>
+           */
+          public int getTransportationTypeHandle() {
+            return transportationTypeHandle_;
+          }
+          /**
+           * <code>required uint32 transportationTypeHandle = 4;</code>
+           */
+          public Builder setTransportationTypeHandle(int value) {
+            bitField0_ |= 0x00000008;
+            transportationTypeHandle_ = value;
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>required uint32 transportationTypeHandle = 4;</code>
+           */
+          public Builder clearTransportationTypeHandle() {
+            bitField0_ = (bitField0_ & ~0x00000008);
+            transportationTypeHandle_ = 0;
+            onChanged();
+            return this;
+          }
+
+          // required .ohla.rti.proto.OrderType orderType = 5;
+          private net.sf.ohla.rti.proto.OHLAProtos.OrderType orderType_ = net.sf.ohla.rti.proto.OHLAProtos.OrderType.RECEIVE;
+          /**
+           * <code>required .ohla.rti.proto.OrderType orderType = 5;</code>
+           */
+          public boolean hasOrderType() {
+            return ((bitField0_ & 0x00000010) == 0x00000010);
+          }
+          /**
+           * <code>required .ohla.rti.proto.OrderType orderType = 5;</code>
+           */
+          public net.sf.ohla.rti.proto.OHLAProtos.OrderType getOrderType() {
+            return orderType_;
+          }
+          /**
+           * <code>required .ohla.rti.proto.OrderType orderType = 5;</code>
+           */
+          public Builder setOrderType(net.sf.ohla.rti.proto.OHLAProtos.OrderType value) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            bitField0_ |= 0x00000010;
+            orderType_ = value;
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>required .ohla.rti.proto.OrderType orderType = 5;</code>
+           */
+          public Builder clearOrderType() {
+            bitField0_ = (bitField0_ & ~0x00000010);
+            orderType_ = net.sf.ohla.rti.proto.OHLAProtos.OrderType.RECEIVE;
+            onChanged();
+            return this;
+          }
+
+          // @@protoc_insertion_point(builder_scope:ohla.rti.proto.FDD.ObjectClass.Attribute)
+        }
+
+        static {
+          defaultInstance = new Attribute(true);
+          defaultInstance.initFields();
+        }
+
+        // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD.ObjectClass.Attribute)
+      }
+
+      private int bitField0_;
+      // required uint32 objectClassHandle = 1;
+      public static final int OBJECTCLASSHANDLE_FIELD_NUMBER = 1;
+      private int objectClassHandle_;
+      /**
+       * <code>required uint32 objectClassHandle = 1;</code>
+       */
+      public boolean hasObjectClassHandle() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 objectClassHandle = 1;</code>
+       */
+      public int getObjectClassHandle() {
+        return objectClassHandle_;
+      }
+
+      // required string objectClassName = 2;
+      public static final int OBJECTCLASSNAME_FIELD_NUMBER = 2;
+      private java.lang.Object objectClassName_;
+      /**
+       * <code>required string objectClassName = 2;</code>
+       */
+      public boolean hasObjectClassName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string objectClassName = 2;</code>
+       */
+      public java.lang.String getObjectClassName() {
+        java.lang.Object ref = objectClassName_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            objectClassName_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>required string objectClassName = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getObjectClassNameBytes() {
+        java.lang.Object ref = objectClassName_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          objectClassName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      // optional uint32 superObjectClassHandle = 3;
+      public static final int SUPEROBJECTCLASSHANDLE_FIELD_NUMBER = 3;
+      private int superObjectClassHandle_;
+      /**
+       * <code>optional uint32 superObjectClassHandle = 3;</code>
+       */
+      public boolean hasSuperObjectClassHandle() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional uint32 superObjectClassHandle = 3;</code>
+       */
+      public int getSuperObjectClassHandle() {
+        return superObjectClassHandle_;
+      }
+
+      // repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;
+      public static final int ATTRIBUTES_FIELD_NUMBER = 4;
+      private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute> attributes_;
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute> getAttributesList() {
+        return attributes_;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+       */
+      public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.AttributeOrBuilder> 
+          getAttributesOrBuilderList() {
+        return attributes_;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+       */
+      public int getAttributesCount() {
+        return attributes_.size();
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute getAttributes(int index) {
+        return attributes_.get(index);
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.AttributeOrBuilder getAttributesOrBuilder(
+          int index) {
+        return attributes_.get(index);
+      }
+
+      private void initFields() {
+        objectClassHandle_ = 0;
+        objectClassName_ = "";
+        superObjectClassHandle_ = 0;
+        attributes_ = java.util.Collections.emptyList();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized != -1) return isInitialized == 1;
+
+        if (!hasObjectClassHandle()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        if (!hasObjectClassName()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        for (int i = 0; i < getAttributesCount(); i++) {
+          if (!getAttributes(i).isInitialized()) {
+            memoizedIsInitialized = 0;
+            return false;
+          }
+        }
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeUInt32(1, objectClassHandle_);
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getObjectClassNameBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeUInt32(3, superObjectClassHandle_);
+        }
+        for (int i = 0; i < attributes_.size(); i++) {
+          output.writeMessage(4, attributes_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(1, objectClassHandle_);
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getObjectClassNameBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(3, superObjectClassHandle_);
+        }
+        for (int i = 0; i < attributes_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(4, attributes_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ohla.rti.proto.FDD.ObjectClass}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder>
+         implements net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClassOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_ObjectClass_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_ObjectClass_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Builder.class);
+        }
+
+        // Construct using net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getAttributesFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          objectClassHandle_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          objectClassName_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          superObjectClassHandle_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000004);
+          if (attributesBuilder_ == null) {
+            attributes_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            attributesBuilder_.clear();
+          }
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_ObjectClass_descriptor;
+        }
+
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass getDefaultInstanceForType() {
+          return net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.getDefaultInstance();
+        }
+
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass build() {
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass buildPartial() {
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass result = new net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.objectClassHandle_ = objectClassHandle_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.objectClassName_ = objectClassName_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.superObjectClassHandle_ = superObjectClassHandle_;
+          if (attributesBuilder_ == null) {
+            if (((bitField0_ & 0x00000008) == 0x00000008)) {
+              attributes_ = java.util.Collections.unmodifiableList(attributes_);
+              bitField0_ = (bitField0_ & ~0x00000008);
+            }
+            result.attributes_ = attributes_;
+          } else {
+            result.attributes_ = attributesBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass) {
+            return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass other) {
+          if (other == net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.getDefaultInstance()) return this;
+          if (other.hasObjectClassHandle()) {
+            setObjectClassHandle(other.getObjectClassHandle());
+          }
+          if (other.hasObjectClassName()) {
+            bitField0_ |= 0x00000002;
+            objectClassName_ = other.objectClassName_;
+            onChanged();
+          }
+          if (other.hasSuperObjectClassHandle()) {
+            setSuperObjectClassHandle(other.getSuperObjectClassHandle());
+          }
+          if (attributesBuilder_ == null) {
+            if (!other.attributes_.isEmpty()) {
+              if (attributes_.isEmpty()) {
+                attributes_ = other.attributes_;
+                bitField0_ = (bitField0_ & ~0x00000008);
+              } else {
+                ensureAttributesIsMutable();
+                attributes_.addAll(other.attributes_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.attributes_.isEmpty()) {
+              if (attributesBuilder_.isEmpty()) {
+                attributesBuilder_.dispose();
+                attributesBuilder_ = null;
+                attributes_ = other.attributes_;
+                bitField0_ = (bitField0_ & ~0x00000008);
+                attributesBuilder_ = 
+                  com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                     getAttributesFieldBuilder() : null;
+              } else {
+                attributesBuilder_.addAllMessages(other.attributes_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          if (!hasObjectClassHandle()) {
+            
+            return false;
+          }
+          if (!hasObjectClassName()) {
+            
+            return false;
+          }
+          for (int i = 0; i < getAttributesCount(); i++) {
+            if (!getAttributes(i).isInitialized()) {
+              
+              return false;
+            }
+          }
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        // required uint32 objectClassHandle = 1;
+        private int objectClassHandle_ ;
+        /**
+         * <code>required uint32 objectClassHandle = 1;</code>
+         */
+        public boolean hasObjectClassHandle() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>required uint32 objectClassHandle = 1;</code>
+         */
+        public int getObjectClassHandle() {
+          return objectClassHandle_;
+        }
+        /**
+         * <code>required uint32 objectClassHandle = 1;</code>
+         */
+        public Builder setObjectClassHandle(int value) {
+          bitField0_ |= 0x00000001;
+          objectClassHandle_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required uint32 objectClassHandle = 1;</code>
+         */
+        public Builder clearObjectClassHandle() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          objectClassHandle_ = 0;
+          onChanged();
+          return this;
+        }
+
+        // required string objectClassName = 2;
+        private java.lang.Object objectClassName_ = "";
+        /**
+         * <code>required string objectClassName = 2;</code>
+         */
+        public boolean hasObjectClassName() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>required string objectClassName = 2;</code>
+         */
+        public java.lang.String getObjectClassName() {
+          java.lang.Object ref = objectClassName_;
+          if (!(ref instanceof java.lang.String)) {
+            java.lang.String s = ((com.google.protobuf.ByteString) ref)
+                .toStringUtf8();
+            objectClassName_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>required string objectClassName = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getObjectClassNameBytes() {
+          java.lang.Object ref = objectClassName_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            objectClassName_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>required string objectClassName = 2;</code>
+         */
+        public Builder setObjectClassName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          objectClassName_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required string objectClassName = 2;</code>
+         */
+        public Builder clearObjectClassName() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          objectClassName_ = getDefaultInstance().getObjectClassName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required string objectClassName = 2;</code>
+         */
+        public Builder setObjectClassNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          objectClassName_ = value;
+          onChanged();
+          return this;
+        }
+
+        // optional uint32 superObjectClassHandle = 3;
+        private int superObjectClassHandle_ ;
+        /**
+         * <code>optional uint32 superObjectClassHandle = 3;</code>
+         */
+        public boolean hasSuperObjectClassHandle() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional uint32 superObjectClassHandle = 3;</code>
+         */
+        public int getSuperObjectClassHandle() {
+          return superObjectClassHandle_;
+        }
+        /**
+         * <code>optional uint32 superObjectClassHandle = 3;</code>
+         */
+        public Builder setSuperObjectClassHandle(int value) {
+          bitField0_ |= 0x00000004;
+          superObjectClassHandle_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint32 superObjectClassHandle = 3;</code>
+         */
+        public Builder clearSuperObjectClassHandle() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          superObjectClassHandle_ = 0;
+          onChanged();
+          return this;
+        }
+
+        // repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;
+        private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute> attributes_ =
+          java.util.Collections.emptyList();
+        private void ensureAttributesIsMutable() {
+          if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+            attributes_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute>(attributes_);
+            bitField0_ |= 0x00000008;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilder<
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.AttributeOrBuilder> attributesBuilder_;
+
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute> getAttributesList() {
+          if (attributesBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(attributes_);
+          } else {
+            return attributesBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public int getAttributesCount() {
+          if (attributesBuilder_ == null) {
+            return attributes_.size();
+          } else {
+            return attributesBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute getAttributes(int index) {
+          if (attributesBuilder_ == null) {
+            return attributes_.get(index);
+          } else {
+            return attributesBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public Builder setAttributes(
+            int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute value) {
+          if (attributesBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureAttributesIsMutable();
+            attributes_.set(index, value);
+            onChanged();
+          } else {
+            attributesBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public Builder setAttributes(
+            int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.Builder builderForValue) {
+          if (attributesBuilder_ == null) {
+            ensureAttributesIsMutable();
+            attributes_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            attributesBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public Builder addAttributes(net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute value) {
+          if (attributesBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureAttributesIsMutable();
+            attributes_.add(value);
+            onChanged();
+          } else {
+            attributesBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public Builder addAttributes(
+            int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute value) {
+          if (attributesBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureAttributesIsMutable();
+            attributes_.add(index, value);
+            onChanged();
+          } else {
+            attributesBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public Builder addAttributes(
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.Builder builderForValue) {
+          if (attributesBuilder_ == null) {
+            ensureAttributesIsMutable();
+            attributes_.add(builderForValue.build());
+            onChanged();
+          } else {
+            attributesBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public Builder addAttributes(
+            int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.Builder builderForValue) {
+          if (attributesBuilder_ == null) {
+            ensureAttributesIsMutable();
+            attributes_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            attributesBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public Builder addAllAttributes(
+            java.lang.Iterable<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute> values) {
+          if (attributesBuilder_ == null) {
+            ensureAttributesIsMutable();
+            super.addAll(values, attributes_);
+            onChanged();
+          } else {
+            attributesBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public Builder clearAttributes() {
+          if (attributesBuilder_ == null) {
+            attributes_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000008);
+            onChanged();
+          } else {
+            attributesBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public Builder removeAttributes(int index) {
+          if (attributesBuilder_ == null) {
+            ensureAttributesIsMutable();
+            attributes_.remove(index);
+            onChanged();
+          } else {
+            attributesBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.Builder getAttributesBuilder(
+            int index) {
+          return getAttributesFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.AttributeOrBuilder getAttributesOrBuilder(
+            int index) {
+          if (attributesBuilder_ == null) {
+            return attributes_.get(index);  } else {
+            return attributesBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.AttributeOrBuilder> 
+             getAttributesOrBuilderList() {
+          if (attributesBuilder_ != null) {
+            return attributesBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(attributes_);
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.Builder addAttributesBuilder() {
+          return getAttributesFieldBuilder().addBuilder(
+              net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.Builder addAttributesBuilder(
+            int index) {
+          return getAttributesFieldBuilder().addBuilder(
+              index, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.ObjectClass.Attribute attributes = 4;</code>
+         */
+        public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.Builder> 
+             getAttributesBuilderList() {
+          return getAttributesFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilder<
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.AttributeOrBuilder> 
+            getAttributesFieldBuilder() {
+          if (attributesBuilder_ == null) {
+            attributesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+                net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Attribute.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.AttributeOrBuilder>(
+                    attributes_,
+                    ((bitField0_ & 0x00000008) == 0x00000008),
+                    getParentForChildren(),
+                    isClean());
+            attributes_ = null;
+          }
+          return attributesBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ohla.rti.proto.FDD.ObjectClass)
+      }
+
+      static {
+        defaultInstance = new ObjectClass(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD.ObjectClass)
+    }
+
+    public interface InteractionClassOrBuilder
+        extends com.google.protobuf.MessageOrBuilder {
+
+      // required uint32 interactionClassHandle = 1;
+      /**
+       * <code>required uint32 interactionClassHandle = 1;</code>
+       */
+      boolean hasInteractionClassHandle();
+      /**
+       * <code>required uint32 interactionClassHandle = 1;</code>
+       */
+      int getInteractionClassHandle();
+
+      // required string interactionClassName = 2;
+      /**
+       * <code>required string interactionClassName = 2;</code>
+       */
+      boolean hasInteractionClassName();
+      /**
+       * <code>required string interactionClassName = 2;</code>
+       */
+      java.lang.String getInteractionClassName();
+      /**
+       * <code>required string interactionClassName = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getInteractionClassNameBytes();
+
+      // optional uint32 superInteractionClassHandle = 3;
+      /**
+       * <code>optional uint32 superInteractionClassHandle = 3;</code>
+       */
+      boolean hasSuperInteractionClassHandle();
+      /**
+       * <code>optional uint32 superInteractionClassHandle = 3;</code>
+       */
+      int getSuperInteractionClassHandle();
+
+      // repeated uint32 dimensionHandles = 4;
+      /**
+       * <code>repeated uint32 dimensionHandles = 4;</code>
+       */
+      java.util.List<java.lang.Integer> getDimensionHandlesList();
+      /**
+       * <code>repeated uint32 dimensionHandles = 4;</code>
+       */
+      int getDimensionHandlesCount();
+      /**
+       * <code>repeated uint32 dimensionHandles = 4;</code>
+       */
+      int getDimensionHandles(int index);
+
+      // required uint32 transportationTypeHandle = 5;
+      /**
+       * <code>required uint32 transportationTypeHandle = 5;</code>
+       */
+      boolean hasTransportationTypeHandle();
+      /**
+       * <code>required uint32 transportationTypeHandle = 5;</code>
+       */
+      int getTransportationTypeHandle();
+
+      // required .ohla.rti.proto.OrderType orderType = 6;
+      /**
+       * <code>required .ohla.rti.proto.OrderType orderType = 6;</code>
+       */
+      boolean hasOrderType();
+      /**
+       * <code>required .ohla.rti.proto.OrderType orderType = 6;</code>
+       */
+      net.sf.ohla.rti.proto.OHLAProtos.OrderType getOrderType();
+
+      // repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+       */
+      java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter> 
+          getParametersList();
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+       */
+      net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter getParameters(int index);
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+       */
+      int getParametersCount();
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+       */
+      java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.ParameterOrBuilder> 
+          getParametersOrBuilderList();
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+       */
+      net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.ParameterOrBuilder getParametersOrBuilder(
+          int index);
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.FDD.InteractionClass}
+     */
+    public static final class InteractionClass extends
+        com.google.protobuf.GeneratedMessage
+        implements InteractionClassOrBuilder {
+      // Use InteractionClass.newBuilder() to construct.
+      private InteractionClass(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private InteractionClass(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final InteractionClass defaultInstance;
+      public static InteractionClass getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public InteractionClass getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private InteractionClass(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 8: {
+                bitField0_ |= 0x00000001;
+                interactionClassHandle_ = input.readUInt32();
+                break;
+              }
+              case 18: {
+                bitField0_ |= 0x00000002;
+                interactionClassName_ = input.readBytes();
+                break;
+              }
+              case 24: {
+                bitField0_ |= 0x00000004;
+                superInteractionClassHandle_ = input.readUInt32();
+                break;
+              }
+              case 32: {
+                if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                  dimensionHandles_ = new java.util.ArrayList<java.lang.Integer>();
+                  mutable_bitField0_ |= 0x00000008;
+                }
+                dimensionHandles_.add(input.readUInt32());
+                break;
+              }
+              case 34: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                if (!((mutable_bitField0_ & 0x00000008) == 0x00000008) && input.getBytesUntilLimit() > 0) {
+                  dimensionHandles_ = new java.util.ArrayList<java.lang.Integer>();
+                  mutable_bitField0_ |= 0x00000008;
+                }
+                while (input.getBytesUntilLimit() > 0) {
+                  dimensionHandles_.add(input.readUInt32());
+                }
+                input.popLimit(limit);
+                break;
+              }
+              case 40: {
+                bitField0_ |= 0x00000008;
+                transportationTypeHandle_ = input.readUInt32();
+                break;
+              }
+              case 48: {
+                int rawValue = input.readEnum();
+                net.sf.ohla.rti.proto.OHLAProtos.OrderType value = net.sf.ohla.rti.proto.OHLAProtos.OrderType.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(6, rawValue);
+                } else {
+                  bitField0_ |= 0x00000010;
+                  orderType_ = value;
+                }
+                break;
+              }
+              case 58: {
+                if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+                  parameters_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter>();
+                  mutable_bitField0_ |= 0x00000040;
+                }
+                parameters_.add(input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.PARSER, extensionRegistry));
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+            dimensionHandles_ = java.util.Collections.unmodifiableList(dimensionHandles_);
+          }
+          if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+            parameters_ = java.util.Collections.unmodifiableList(parameters_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_InteractionClass_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_InteractionClass_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<InteractionClass> PARSER =
+          new com.google.protobuf.AbstractParser<InteractionClass>() {
+        public InteractionClass parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new InteractionClass(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<InteractionClass> getParserForType() {
+        return PARSER;
+      }
+
+      public interface ParameterOrBuilder
+          extends com.google.protobuf.MessageOrBuilder {
+
+        // required uint32 parameterHandle = 1;
+        /**
+         * <code>required uint32 parameterHandle = 1;</code>
+         */
+        boolean hasParameterHandle();
+        /**
+         * <code>required uint32 parameterHandle = 1;</code>
+         */
+        int getParameterHandle();
+
+        // required string parameterName = 2;
+        /**
+         * <code>required string parameterName = 2;</code>
+         */
+        boolean hasParameterName();
+        /**
+         * <code>required string parameterName = 2;</code>
+         */
+        java.lang.String getParameterName();
+        /**
+         * <code>required string parameterName = 2;</code>
+         */
+        com.google.protobuf.ByteString
+            getParameterNameBytes();
+      }
+      /**
+       * Protobuf type {@code ohla.rti.proto.FDD.InteractionClass.Parameter}
+       */
+      public static final class Parameter extends
+          com.google.protobuf.GeneratedMessage
+          implements ParameterOrBuilder {
+        // Use Parameter.newBuilder() to construct.
+        private Parameter(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+          super(builder);
+          this.unknownFields = builder.getUnknownFields();
+        }
+        private Parameter(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+        private static final Parameter defaultInstance;
+        public static Parameter getDefaultInstance() {
+          return defaultInstance;
+        }
+
+        public Parameter getDefaultInstanceForType() {
+          return defaultInstance;
+        }
+
+        private final com.google.protobuf.UnknownFieldSet unknownFields;
+        @java.lang.Override
+        public final com.google.protobuf.UnknownFieldSet
+            getUnknownFields() {
+          return this.unknownFields;
+        }
+        private Parameter(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          initFields();
+          int mutable_bitField0_ = 0;
+          com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+              com.google.protobuf.UnknownFieldSet.newBuilder();
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                default: {
+                  if (!parseUnknownField(input, unknownFields,
+                                         extensionRegistry, tag)) {
+                    done = true;
+                  }
+                  break;
+                }
+                case 8: {
+                  bitField0_ |= 0x00000001;
+                  parameterHandle_ = input.readUInt32();
+                  break;
+                }
+                case 18: {
+                  bitField0_ |= 0x00000002;
+                  parameterName_ = input.readBytes();
+                  break;
+                }
+              }
+            }
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(this);
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this);
+          } finally {
+            this.unknownFields = unknownFields.build();
+            makeExtensionsImmutable();
+          }
+        }
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_InteractionClass_Parameter_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_InteractionClass_Parameter_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.Builder.class);
+        }
+
+        public static com.google.protobuf.Parser<Parameter> PARSER =
+            new com.google.protobuf.AbstractParser<Parameter>() {
+          public Parameter parsePartialFrom(
+              com.google.protobuf.CodedInputStream input,
+              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+              throws com.google.protobuf.InvalidProtocolBufferException {
+            return new Parameter(input, extensionRegistry);
+          }
+        };
+
+        @java.lang.Override
+        public com.google.protobuf.Parser<Parameter> getParserForType() {
+          return PARSER;
+        }
+
+        private int bitField0_;
+        // required uint32 parameterHandle = 1;
+        public static final int PARAMETERHANDLE_FIELD_NUMBER = 1;
+        private int parameterHandle_;
+        /**
+         * <code>required uint32 parameterHandle = 1;</code>
+         */
+        public boolean hasParameterHandle() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>required uint32 parameterHandle = 1;</code>
+         */
+        public int getParameterHandle() {
+          return parameterHandle_;
+        }
+
+        // required string parameterName = 2;
+        public static final int PARAMETERNAME_FIELD_NUMBER = 2;
+        private java.lang.Object parameterName_;
+        /**
+         * <code>required string parameterName = 2;</code>
+         */
+        public boolean hasParameterName() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>required string parameterName = 2;</code>
+         */
+        public java.lang.String getParameterName() {
+          java.lang.Object ref = parameterName_;
+          if (ref instanceof java.lang.String) {
+            return (java.lang.String) ref;
+          } else {
+            com.google.protobuf.ByteString bs = 
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              parameterName_ = s;
+            }
+            return s;
+          }
+        }
+        /**
+         * <code>required string parameterName = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getParameterNameBytes() {
+          java.lang.Object ref = parameterName_;
+          if (ref instanceof java.lang.String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            parameterName_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+
+        private void initFields() {
+          parameterHandle_ = 0;
+          parameterName_ = "";
+        }
+        private byte memoizedIsInitialized = -1;
+        public final boolean isInitialized() {
+          byte isInitialized = memoizedIsInitialized;
+          if (isInitialized != -1) return isInitialized == 1;
+
+          if (!hasParameterHandle()) {
+            memoizedIsInitialized = 0;
+            return false;
+          }
+          if (!hasParameterName()) {
+            memoizedIsInitialized = 0;
+            return false;
+          }
+          memoizedIsInitialized = 1;
+          return true;
+        }
+
+        public void writeTo(com.google.protobuf.CodedOutputStream output)
+                            throws java.io.IOException {
+          getSerializedSize();
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            output.writeUInt32(1, parameterHandle_);
+          }
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            output.writeBytes(2, getParameterNameBytes());
+          }
+          getUnknownFields().writeTo(output);
+        }
+
+        private int memoizedSerializedSize = -1;
+        public int getSerializedSize() {
+          int size = memoizedSerializedSize;
+          if (size != -1) return size;
+
+          size = 0;
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            size += com.google.protobuf.CodedOutputStream
+              .computeUInt32Size(1, parameterHandle_);
+          }
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            size += com.google.protobuf.CodedOutputStream
+              .computeBytesSize(2, getParameterNameBytes());
+          }
+          size += getUnknownFields().getSerializedSize();
+          memoizedSerializedSize = size;
+          return size;
+        }
+
+        private static final long serialVersionUID = 0L;
+        @java.lang.Override
+        protected java.lang.Object writeReplace()
+            throws java.io.ObjectStreamException {
+          return super.writeReplace();
+        }
+
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter parseFrom(
+            com.google.protobuf.ByteString data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return PARSER.parseFrom(data);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter parseFrom(
+            com.google.protobuf.ByteString data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return PARSER.parseFrom(data, extensionRegistry);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter parseFrom(byte[] data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return PARSER.parseFrom(data);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter parseFrom(
+            byte[] data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return PARSER.parseFrom(data, extensionRegistry);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter parseFrom(java.io.InputStream input)
+            throws java.io.IOException {
+          return PARSER.parseFrom(input);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter parseFrom(
+            java.io.InputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          return PARSER.parseFrom(input, extensionRegistry);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter parseDelimitedFrom(java.io.InputStream input)
+            throws java.io.IOException {
+          return PARSER.parseDelimitedFrom(input);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter parseDelimitedFrom(
+            java.io.InputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          return PARSER.parseDelimitedFrom(input, extensionRegistry);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter parseFrom(
+            com.google.protobuf.CodedInputStream input)
+            throws java.io.IOException {
+          return PARSER.parseFrom(input);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter parseFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          return PARSER.parseFrom(input, extensionRegistry);
+        }
+
+        public static Builder newBuilder() { return Builder.create(); }
+        public Builder newBuilderForType() { return newBuilder(); }
+        public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter prototype) {
+          return newBuilder().mergeFrom(prototype);
+        }
+        public Builder toBuilder() { return newBuilder(this); }
+
+        @java.lang.Override
+        protected Builder newBuilderForType(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          Builder builder = new Builder(parent);
+          return builder;
+        }
+        /**
+         * Protobuf type {@code ohla.rti.proto.FDD.InteractionClass.Parameter}
+         */
+        public static final class Builder extends
+            com.google.protobuf.GeneratedMessage.Builder<Builder>
+           implements net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.ParameterOrBuilder {
+          public static final com.google.protobuf.Descriptors.Descriptor
+              getDescriptor() {
+            return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_InteractionClass_Parameter_descriptor;
+          }
+
+          protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+              internalGetFieldAccessorTable() {
+            return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_InteractionClass_Parameter_fieldAccessorTable
+                .ensureFieldAccessorsInitialized(
+                    net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.Builder.class);
+          }
+
+          // Construct using net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.newBuilder()
+          private Builder() {
+            maybeForceBuilderInitialization();
+          }
+
+          private Builder(
+              com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+            super(parent);
+            maybeForceBuilderInitialization();
+          }
+          private void maybeForceBuilderInitialization() {
+            if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            }
+          }
+          private static Builder create() {
+            return new Builder();
+          }
+
+          public Builder clear() {
+            super.clear();
+            parameterHandle_ = 0;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            parameterName_ = "";
+            bitField0_ = (bitField0_ & ~0x00000002);
+            return this;
+          }
+
+          public Builder clone() {
+            return create().mergeFrom(buildPartial());
+          }
+
+          public com.google.protobuf.Descriptors.Descriptor
+              getDescriptorForType() {
+            return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_InteractionClass_Parameter_descriptor;
+          }
+
+          public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter getDefaultInstanceForType() {
+            return net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.getDefaultInstance();
+          }
+
+          public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter build() {
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter result = buildPartial();
+            if (!result.isInitialized()) {
+              throw newUninitializedMessageException(result);
+            }
+            return result;
+          }
+
+          public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter buildPartial() {
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter result = new net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter(this);
+            int from_bitField0_ = bitField0_;
+            int to_bitField0_ = 0;
+            if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+              to_bitField0_ |= 0x00000001;
+            }
+            result.parameterHandle_ = parameterHandle_;
+            if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+              to_bitField0_ |= 0x00000002;
+            }
+            result.parameterName_ = parameterName_;
+            result.bitField0_ = to_bitField0_;
+            onBuilt();
+            return result;
+          }
+
+          public Builder mergeFrom(com.google.protobuf.Message other) {
+            if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter) {
+              return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter)other);
+            } else {
+              super.mergeFrom(other);
+              return this;
+            }
+          }
+
+          public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter other) {
+            if (other == net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.getDefaultInstance()) return this;
+            if (other.hasParameterHandle()) {
+              setParameterHandle(other.getParameterHandle());
+            }
+            if (other.hasParameterName()) {
+              bitField0_ |= 0x00000002;
+              parameterName_ = other.parameterName_;
+              onChanged();
+            }
+            this.mergeUnknownFields(other.getUnknownFields());
+            return this;
+          }
+
+          public final boolean isInitialized() {
+            if (!hasParameterHandle()) {
+              
+              return false;
+            }
+            if (!hasParameterName()) {
+              
+              return false;
+            }
+            return true;
+          }
+
+          public Builder mergeFrom(
+              com.google.protobuf.CodedInputStream input,
+              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+              throws java.io.IOException {
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter parsedMessage = null;
+            try {
+              parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+              parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter) e.getUnfinishedMessage();
+              throw e;
+            } finally {
+              if (parsedMessage != null) {
+                mergeFrom(parsedMessage);
+              }
+            }
+            return this;
+          }
+          private int bitField0_;
+
+          // required uint32 parameterHandle = 1;
+          private int parameterHandle_ ;
+          /**
+           * <code>required uint32 parameterHandle = 1;</code>
+           */
+          public boolean hasParameterHandle() {
+            return ((bitField0_ & 0x00000001) == 0x00000001);
+          }
+          /**
+           * <code>required uint32 parameterHandle = 1;</code>
+           */
+          public int getParameterHandle() {
+            return parameterHandle_;
+          }
+          /**
+           * <code>required uint32 parameterHandle = 1;</code>
+           */
+          public Builder setParameterHandle(int value) {
+            bitField0_ |= 0x00000001;
+            parameterHandle_ = value;
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>required uint32 parameterHandle = 1;</code>
+           */
+          public Builder clearParameterHandle() {
+            bitField0_ = (bitField0_ & ~0x00000001);
+            parameterHandle_ = 0;
+            onChanged();
+            return this;
+          }
+
+          // required string parameterName = 2;
+          private java.lang.Object parameterName_ = "";
+          /**
+           * <code>required string parameterName = 2;</code>
+           */
+          public boolean hasParameterName() {
+            return ((bitField0_ & 0x00000002) == 0x00000002);
+          }
+          /**
+           * <code>required string parameterName = 2;</code>
+           */
+          public java.lang.String getParameterName() {
+            java.lang.Object ref = parameterName_;
+            if (!(ref instanceof java.lang.String)) {
+              java.lang.String s = ((com.google.protobuf.ByteString) ref)
+                  .toStringUtf8();
+              parameterName_ = s;
+              return s;
+            } else {
+              return (java.lang.String) ref;
+            }
+          }
+          /**
+           * <code>required string parameterName = 2;</code>
+           */
+          public com.google.protobuf.ByteString
+              getParameterNameBytes() {
+            java.lang.Object ref = parameterName_;
+            if (ref instanceof String) {
+              com.google.protobuf.ByteString b = 
+                  com.google.protobuf.ByteString.copyFromUtf8(
+                      (java.lang.String) ref);
+              parameterName_ = b;
+              return b;
+            } else {
+              return (com.google.protobuf.ByteString) ref;
+            }
+          }
+          /**
+           * <code>required string parameterName = 2;</code>
+           */
+          public Builder setParameterName(
+              java.lang.String value) {
+            if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+            parameterName_ = value;
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>required string parameterName = 2;</code>
+           */
+          public Builder clearParameterName() {
+            bitField0_ = (bitField0_ & ~0x00000002);
+            parameterName_ = getDefaultInstance().getParameterName();
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>required string parameterName = 2;</code>
+           */
+          public Builder setParameterNameBytes(
+              com.google.protobuf.ByteString value) {
+            if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+            parameterName_ = value;
+            onChanged();
+            return this;
+          }
+
+          // @@protoc_insertion_point(builder_scope:ohla.rti.proto.FDD.InteractionClass.Parameter)
+        }
+
+        static {
+          defaultInstance = new Parameter(true);
+          defaultInstance.initFields();
+        }
+
+        // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD.InteractionClass.Parameter)
+      }
+
+      private int bitField0_;
+      // required uint32 interactionClassHandle = 1;
+      public static final int INTERACTIONCLASSHANDLE_FIELD_NUMBER = 1;
+      private int interactionClassHandle_;
+      /**
+       * <code>required uint32 interactionClassHandle = 1;</code>
+       */
+      public boolean hasInteractionClassHandle() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 interactionClassHandle = 1;</code>
+       */
+      public int getInteractionClassHandle() {
+        return interactionClassHandle_;
+      }
+
+      // required string interactionClassName = 2;
+      public static final int INTERACTIONCLASSNAME_FIELD_NUMBER = 2;
+      private java.lang.Object interactionClassName_;
+      /**
+       * <code>required string interactionClassName = 2;</code>
+       */
+      public boolean hasInteractionClassName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string interactionClassName = 2;</code>
+       */
+      public java.lang.String getInteractionClassName() {
+        java.lang.Object ref = interactionClassName_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            interactionClassName_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>required string interactionClassName = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getInteractionClassNameBytes() {
+        java.lang.Object ref = interactionClassName_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          interactionClassName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      // optional uint32 superInteractionClassHandle = 3;
+      public static final int SUPERINTERACTIONCLASSHANDLE_FIELD_NUMBER = 3;
+      private int superInteractionClassHandle_;
+      /**
+       * <code>optional uint32 superInteractionClassHandle = 3;</code>
+       */
+      public boolean hasSuperInteractionClassHandle() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional uint32 superInteractionClassHandle = 3;</code>
+       */
+      public int getSuperInteractionClassHandle() {
+        return superInteractionClassHandle_;
+      }
+
+      // repeated uint32 dimensionHandles = 4;
+      public static final int DIMENSIONHANDLES_FIELD_NUMBER = 4;
+      private java.util.List<java.lang.Integer> dimensionHandles_;
+      /**
+       * <code>repeated uint32 dimensionHandles = 4;</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getDimensionHandlesList() {
+        return dimensionHandles_;
+      }
+      /**
+       * <code>repeated uint32 dimensionHandles = 4;</code>
+       */
+      public int getDimensionHandlesCount() {
+        return dimensionHandles_.size();
+      }
+      /**
+       * <code>repeated uint32 dimensionHandles = 4;</code>
+       */
+      public int getDimensionHandles(int index) {
+        return dimensionHandles_.get(index);
+      }
+
+      // required uint32 transportationTypeHandle = 5;
+      public static final int TRANSPORTATIONTYPEHANDLE_FIELD_NUMBER = 5;
+      private int transportationTypeHandle_;
+      /**
+       * <code>required uint32 transportationTypeHandle = 5;</code>
+       */
+      public boolean hasTransportationTypeHandle() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required uint32 transportationTypeHandle = 5;</code>
+       */
+      public int getTransportationTypeHandle() {
+        return transportationTypeHandle_;
+      }
+
+      // required .ohla.rti.proto.OrderType orderType = 6;
+      public static final int ORDERTYPE_FIELD_NUMBER = 6;
+      private net.sf.ohla.rti.proto.OHLAProtos.OrderType orderType_;
+      /**
+       * <code>required .ohla.rti.proto.OrderType orderType = 6;</code>
+       */
+      public boolean hasOrderType() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>required .ohla.rti.proto.OrderType orderType = 6;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.OrderType getOrderType() {
+        return orderType_;
+      }
+
+      // repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;
+      public static final int PARAMETERS_FIELD_NUMBER = 7;
+      private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter> parameters_;
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter> getParametersList() {
+        return parameters_;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+       */
+      public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.ParameterOrBuilder> 
+          getParametersOrBuilderList() {
+        return parameters_;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+       */
+      public int getParametersCount() {
+        return parameters_.size();
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter getParameters(int index) {
+        return parameters_.get(index);
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.ParameterOrBuilder getParametersOrBuilder(
+          int index) {
+        return parameters_.get(index);
+      }
+
+      private void initFields() {
+        interactionClassHandle_ = 0;
+        interactionClassName_ = "";
+        superInteractionClassHandle_ = 0;
+        dimensionHandles_ = java.util.Collections.emptyList();
+        transportationTypeHandle_ = 0;
+        orderType_ = net.sf.ohla.rti.proto.OHLAProtos.OrderType.RECEIVE;
+        parameters_ = java.util.Collections.emptyList();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized != -1) return isInitialized == 1;
+
+        if (!hasInteractionClassHandle()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        if (!hasInteractionClassName()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        if (!hasTransportationTypeHandle()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        if (!hasOrderType()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        for (int i = 0; i < getParametersCount(); i++) {
+          if (!getParameters(i).isInitialized()) {
+            memoizedIsInitialized = 0;
+            return false;
+          }
+        }
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeUInt32(1, interactionClassHandle_);
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getInteractionClassNameBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeUInt32(3, superInteractionClassHandle_);
+        }
+        for (int i = 0; i < dimensionHandles_.size(); i++) {
+          output.writeUInt32(4, dimensionHandles_.get(i));
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeUInt32(5, transportationTypeHandle_);
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          output.writeEnum(6, orderType_.getNumber());
+        }
+        for (int i = 0; i < parameters_.size(); i++) {
+          output.writeMessage(7, parameters_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(1, interactionClassHandle_);
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getInteractionClassNameBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(3, superInteractionClassHandle_);
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < dimensionHandles_.size(); i++) {
+            dataSize += com.google.protobuf.CodedOutputStream
+              .computeUInt32SizeNoTag(dimensionHandles_.get(i));
+          }
+          size += dataSize;
+          size += 1 * getDimensionHandlesList().size();
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(5, transportationTypeHandle_);
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeEnumSize(6, orderType_.getNumber());
+        }
+        for (int i = 0; i < parameters_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(7, parameters_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ohla.rti.proto.FDD.InteractionClass}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder>
+         implements net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClassOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_InteractionClass_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_InteractionClass_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Builder.class);
+        }
+
+        // Construct using net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getParametersFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          interactionClassHandle_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          interactionClassName_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          superInteractionClassHandle_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000004);
+          dimensionHandles_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          transportationTypeHandle_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000010);
+          orderType_ = net.sf.ohla.rti.proto.OHLAProtos.OrderType.RECEIVE;
+          bitField0_ = (bitField0_ & ~0x00000020);
+          if (parametersBuilder_ == null) {
+            parameters_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000040);
+          } else {
+            parametersBuilder_.clear();
+          }
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_InteractionClass_descriptor;
+        }
+
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass getDefaultInstanceForType() {
+          return net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.getDefaultInstance();
+        }
+
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass build() {
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass buildPartial() {
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass result = new net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.interactionClassHandle_ = interactionClassHandle_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.interactionClassName_ = interactionClassName_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.superInteractionClassHandle_ = superInteractionClassHandle_;
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            dimensionHandles_ = java.util.Collections.unmodifiableList(dimensionHandles_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.dimensionHandles_ = dimensionHandles_;
+          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.transportationTypeHandle_ = transportationTypeHandle_;
+          if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+            to_bitField0_ |= 0x00000010;
+          }
+          result.orderType_ = orderType_;
+          if (parametersBuilder_ == null) {
+            if (((bitField0_ & 0x00000040) == 0x00000040)) {
+              parameters_ = java.util.Collections.unmodifiableList(parameters_);
+              bitField0_ = (bitField0_ & ~0x00000040);
+            }
+            result.parameters_ = parameters_;
+          } else {
+            result.parameters_ = parametersBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass) {
+            return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass other) {
+          if (other == net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.getDefaultInstance()) return this;
+          if (other.hasInteractionClassHandle()) {
+            setInteractionClassHandle(other.getInteractionClassHandle());
+          }
+          if (other.hasInteractionClassName()) {
+            bitField0_ |= 0x00000002;
+            interactionClassName_ = other.interactionClassName_;
+            onChanged();
+          }
+          if (other.hasSuperInteractionClassHandle()) {
+            setSuperInteractionClassHandle(other.getSuperInteractionClassHandle());
+          }
+          if (!other.dimensionHandles_.isEmpty()) {
+            if (dimensionHandles_.isEmpty()) {
+              dimensionHandles_ = other.dimensionHandles_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureDimensionHandlesIsMutable();
+              dimensionHandles_.addAll(other.dimensionHandles_);
+            }
+            onChanged();
+          }
+          if (other.hasTransportationTypeHandle()) {
+            setTransportationTypeHandle(other.getTransportationTypeHandle());
+          }
+          if (other.hasOrderType()) {
+            setOrderType(other.getOrderType());
+          }
+          if (parametersBuilder_ == null) {
+            if (!other.parameters_.isEmpty()) {
+              if (parameters_.isEmpty()) {
+                parameters_ = other.parameters_;
+                bitField0_ = (bitField0_ & ~0x00000040);
+              } else {
+                ensureParametersIsMutable();
+                parameters_.addAll(other.parameters_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.parameters_.isEmpty()) {
+              if (parametersBuilder_.isEmpty()) {
+                parametersBuilder_.dispose();
+                parametersBuilder_ = null;
+                parameters_ = other.parameters_;
+                bitField0_ = (bitField0_ & ~0x00000040);
+                parametersBuilder_ = 
+                  com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                     getParametersFieldBuilder() : null;
+              } else {
+                parametersBuilder_.addAllMessages(other.parameters_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          if (!hasInteractionClassHandle()) {
+            
+            return false;
+          }
+          if (!hasInteractionClassName()) {
+            
+            return false;
+          }
+          if (!hasTransportationTypeHandle()) {
+            
+            return false;
+          }
+          if (!hasOrderType()) {
+            
+            return false;
+          }
+          for (int i = 0; i < getParametersCount(); i++) {
+            if (!getParameters(i).isInitialized()) {
+              
+              return false;
+            }
+          }
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        // required uint32 interactionClassHandle = 1;
+        private int interactionClassHandle_ ;
+        /**
+         * <code>required uint32 interactionClassHandle = 1;</code>
+         */
+        public boolean hasInteractionClassHandle() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>required uint32 interactionClassHandle = 1;</code>
+         */
+        public int getInteractionClassHandle() {
+          return interactionClassHandle_;
+        }
+        /**
+         * <code>required uint32 interactionClassHandle = 1;</code>
+         */
+        public Builder setInteractionClassHandle(int value) {
+          bitField0_ |= 0x00000001;
+          interactionClassHandle_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required uint32 interactionClassHandle = 1;</code>
+         */
+        public Builder clearInteractionClassHandle() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          interactionClassHandle_ = 0;
+          onChanged();
+          return this;
+        }
+
+        // required string interactionClassName = 2;
+        private java.lang.Object interactionClassName_ = "";
+        /**
+         * <code>required string interactionClassName = 2;</code>
+         */
+        public boolean hasInteractionClassName() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>required string interactionClassName = 2;</code>
+         */
+        public java.lang.String getInteractionClassName() {
+          java.lang.Object ref = interactionClassName_;
+          if (!(ref instanceof java.lang.String)) {
+            java.lang.String s = ((com.google.protobuf.ByteString) ref)
+                .toStringUtf8();
+            interactionClassName_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>required string interactionClassName = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getInteractionClassNameBytes() {
+          java.lang.Object ref = interactionClassName_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            interactionClassName_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>required string interactionClassName = 2;</code>
+         */
+        public Builder setInteractionClassName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          interactionClassName_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required string interactionClassName = 2;</code>
+         */
+        public Builder clearInteractionClassName() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          interactionClassName_ = getDefaultInstance().getInteractionClassName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required string interactionClassName = 2;</code>
+         */
+        public Builder setInteractionClassNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          interactionClassName_ = value;
+          onChanged();
+          return this;
+        }
+
+        // optional uint32 superInteractionClassHandle = 3;
+        private int superInteractionClassHandle_ ;
+        /**
+         * <code>optional uint32 superInteractionClassHandle = 3;</code>
+         */
+        public boolean hasSuperInteractionClassHandle() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional uint32 superInteractionClassHandle = 3;</code>
+         */
+        public int getSuperInteractionClassHandle() {
+          return superInteractionClassHandle_;
+        }
+        /**
+         * <code>optional uint32 superInteractionClassHandle = 3;</code>
+         */
+        public Builder setSuperInteractionClassHandle(int value) {
+          bitField0_ |= 0x00000004;
+          superInteractionClassHandle_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint32 superInteractionClassHandle = 3;</code>
+         */
+        public Builder clearSuperInteractionClassHandle() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          superInteractionClassHandle_ = 0;
+          onChanged();
+          return this;
+        }
+
+        // repeated uint32 dimensionHandles = 4;
+        private java.util.List<java.lang.Integer> dimensionHandles_ = java.util.Collections.emptyList();
+        private void ensureDimensionHandlesIsMutable() {
+          if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+            dimensionHandles_ = new java.util.ArrayList<java.lang.Integer>(dimensionHandles_);
+            bitField0_ |= 0x00000008;
+           }
+        }
+        /**
+         * <code>repeated uint32 dimensionHandles = 4;</code>
+         */
+        public java.util.List<java.lang.Integer>
+            getDimensionHandlesList() {
+          return java.util.Collections.unmodifiableList(dimensionHandles_);
+        }
+        /**
+         * <code>repeated uint32 dimensionHandles = 4;</code>
+         */
+        public int getDimensionHandlesCount() {
+          return dimensionHandles_.size();
+        }
+        /**
+         * <code>repeated uint32 dimensionHandles = 4;</code>
+         */
+        public int getDimensionHandles(int index) {
+          return dimensionHandles_.get(index);
+        }
+        /**
+         * <code>repeated uint32 dimensionHandles = 4;</code>
+         */
+        public Builder setDimensionHandles(
+            int index, int value) {
+          ensureDimensionHandlesIsMutable();
+          dimensionHandles_.set(index, value);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated uint32 dimensionHandles = 4;</code>
+         */
+        public Builder addDimensionHandles(int value) {
+          ensureDimensionHandlesIsMutable();
+          dimensionHandles_.add(value);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated uint32 dimensionHandles = 4;</code>
+         */
+        public Builder addAllDimensionHandles(
+            java.lang.Iterable<? extends java.lang.Integer> values) {
+          ensureDimensionHandlesIsMutable();
+          super.addAll(values, dimensionHandles_);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated uint32 dimensionHandles = 4;</code>
+         */
+        public Builder clearDimensionHandles() {
+          dimensionHandles_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+          return this;
+        }
+
+        // required uint32 transportationTypeHandle = 5;
+        private int transportationTypeHandle_ ;
+        /**
+         * <code>required uint32 transportationTypeHandle = 5;</code>
+         */
+        public boolean hasTransportationTypeHandle() {
+          return ((bitField0_ & 0x00000010) == 0x00000010);
+        }
+        /**
+         * <code>required uint32 transportationTypeHandle = 5;</code>
+         */
+        public int getTransportationTypeHandle() {
+          return transportationTypeHandle_;
+        }
+        /**
+         * <code>required uint32 transportationTypeHandle = 5;</code>
+         */
+        public Builder setTransportationTypeHandle(int value) {
+          bitField0_ |= 0x00000010;
+          transportationTypeHandle_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required uint32 transportationTypeHandle = 5;</code>
+         */
+        public Builder clearTransportationTypeHandle() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          transportationTypeHandle_ = 0;
+          onChanged();
+          return this;
+        }
+
+        // required .ohla.rti.proto.OrderType orderType = 6;
+        private net.sf.ohla.rti.proto.OHLAProtos.OrderType orderType_ = net.sf.ohla.rti.proto.OHLAProtos.OrderType.RECEIVE;
+        /**
+         * <code>required .ohla.rti.proto.OrderType orderType = 6;</code>
+         */
+        public boolean hasOrderType() {
+          return ((bitField0_ & 0x00000020) == 0x00000020);
+        }
+        /**
+         * <code>required .ohla.rti.proto.OrderType orderType = 6;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.OrderType getOrderType() {
+          return orderType_;
+        }
+        /**
+         * <code>required .ohla.rti.proto.OrderType orderType = 6;</code>
+         */
+        public Builder setOrderType(net.sf.ohla.rti.proto.OHLAProtos.OrderType value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bitField0_ |= 0x00000020;
+          orderType_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required .ohla.rti.proto.OrderType orderType = 6;</code>
+         */
+        public Builder clearOrderType() {
+          bitField0_ = (bitField0_ & ~0x00000020);
+          orderType_ = net.sf.ohla.rti.proto.OHLAProtos.OrderType.RECEIVE;
+          onChanged();
+          return this;
+        }
+
+        // repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;
+        private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter> parameters_ =
+          java.util.Collections.emptyList();
+        private void ensureParametersIsMutable() {
+          if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+            parameters_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter>(parameters_);
+            bitField0_ |= 0x00000040;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilder<
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.ParameterOrBuilder> parametersBuilder_;
+
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter> getParametersList() {
+          if (parametersBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(parameters_);
+          } else {
+            return parametersBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public int getParametersCount() {
+          if (parametersBuilder_ == null) {
+            return parameters_.size();
+          } else {
+            return parametersBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter getParameters(int index) {
+          if (parametersBuilder_ == null) {
+            return parameters_.get(index);
+          } else {
+            return parametersBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public Builder setParameters(
+            int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter value) {
+          if (parametersBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureParametersIsMutable();
+            parameters_.set(index, value);
+            onChanged();
+          } else {
+            parametersBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public Builder setParameters(
+            int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.Builder builderForValue) {
+          if (parametersBuilder_ == null) {
+            ensureParametersIsMutable();
+            parameters_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            parametersBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public Builder addParameters(net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter value) {
+          if (parametersBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureParametersIsMutable();
+            parameters_.add(value);
+            onChanged();
+          } else {
+            parametersBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public Builder addParameters(
+            int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter value) {
+          if (parametersBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureParametersIsMutable();
+            parameters_.add(index, value);
+            onChanged();
+          } else {
+            parametersBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public Builder addParameters(
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.Builder builderForValue) {
+          if (parametersBuilder_ == null) {
+            ensureParametersIsMutable();
+            parameters_.add(builderForValue.build());
+            onChanged();
+          } else {
+            parametersBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public Builder addParameters(
+            int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.Builder builderForValue) {
+          if (parametersBuilder_ == null) {
+            ensureParametersIsMutable();
+            parameters_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            parametersBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public Builder addAllParameters(
+            java.lang.Iterable<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter> values) {
+          if (parametersBuilder_ == null) {
+            ensureParametersIsMutable();
+            super.addAll(values, parameters_);
+            onChanged();
+          } else {
+            parametersBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public Builder clearParameters() {
+          if (parametersBuilder_ == null) {
+            parameters_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000040);
+            onChanged();
+          } else {
+            parametersBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public Builder removeParameters(int index) {
+          if (parametersBuilder_ == null) {
+            ensureParametersIsMutable();
+            parameters_.remove(index);
+            onChanged();
+          } else {
+            parametersBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.Builder getParametersBuilder(
+            int index) {
+          return getParametersFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.ParameterOrBuilder getParametersOrBuilder(
+            int index) {
+          if (parametersBuilder_ == null) {
+            return parameters_.get(index);  } else {
+            return parametersBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.ParameterOrBuilder> 
+             getParametersOrBuilderList() {
+          if (parametersBuilder_ != null) {
+            return parametersBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(parameters_);
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.Builder addParametersBuilder() {
+          return getParametersFieldBuilder().addBuilder(
+              net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.Builder addParametersBuilder(
+            int index) {
+          return getParametersFieldBuilder().addBuilder(
+              index, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.InteractionClass.Parameter parameters = 7;</code>
+         */
+        public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.Builder> 
+             getParametersBuilderList() {
+          return getParametersFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilder<
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.ParameterOrBuilder> 
+            getParametersFieldBuilder() {
+          if (parametersBuilder_ == null) {
+            parametersBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+                net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Parameter.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.ParameterOrBuilder>(
+                    parameters_,
+                    ((bitField0_ & 0x00000040) == 0x00000040),
+                    getParentForChildren(),
+                    isClean());
+            parameters_ = null;
+          }
+          return parametersBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ohla.rti.proto.FDD.InteractionClass)
+      }
+
+      static {
+        defaultInstance = new InteractionClass(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD.InteractionClass)
+    }
+
+    public interface FEDOrBuilder
+        extends com.google.protobuf.MessageOrBuilder {
+
+      // optional string fedName = 1;
+      /**
+       * <code>optional string fedName = 1;</code>
+       */
+      boolean hasFedName();
+      /**
+       * <code>optional string fedName = 1;</code>
+       */
+      java.lang.String getFedName();
+      /**
+       * <code>optional string fedName = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getFedNameBytes();
+
+      // repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+       */
+      java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace> 
+          getRoutingSpaceList();
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+       */
+      net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace getRoutingSpace(int index);
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+       */
+      int getRoutingSpaceCount();
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+       */
+      java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpaceOrBuilder> 
+          getRoutingSpaceOrBuilderList();
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+       */
+      net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpaceOrBuilder getRoutingSpaceOrBuilder(
+          int index);
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.FDD.FED}
+     */
+    public static final class FED extends
+        com.google.protobuf.GeneratedMessage
+        implements FEDOrBuilder {
+      // Use FED.newBuilder() to construct.
+      private FED(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private FED(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final FED defaultInstance;
+      public static FED getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public FED getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private FED(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                bitField0_ |= 0x00000001;
+                fedName_ = input.readBytes();
+                break;
+              }
+              case 18: {
+                if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                  routingSpace_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace>();
+                  mutable_bitField0_ |= 0x00000002;
+                }
+                routingSpace_.add(input.readMessage(net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.PARSER, extensionRegistry));
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+            routingSpace_ = java.util.Collections.unmodifiableList(routingSpace_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_FED_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_FED_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<FED> PARSER =
+          new com.google.protobuf.AbstractParser<FED>() {
+        public FED parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new FED(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<FED> getParserForType() {
+        return PARSER;
+      }
+
+      public interface RoutingSpaceOrBuilder
+          extends com.google.protobuf.MessageOrBuilder {
+
+        // required uint32 routingSpaceHandle = 1;
+        /**
+         * <code>required uint32 routingSpaceHandle = 1;</code>
+         */
+        boolean hasRoutingSpaceHandle();
+        /**
+         * <code>required uint32 routingSpaceHandle = 1;</code>
+         */
+        int getRoutingSpaceHandle();
+
+        // required string routingSpaceName = 2;
+        /**
+         * <code>required string routingSpaceName = 2;</code>
+         */
+        boolean hasRoutingSpaceName();
+        /**
+         * <code>required string routingSpaceName = 2;</code>
+         */
+        java.lang.String getRoutingSpaceName();
+        /**
+         * <code>required string routingSpaceName = 2;</code>
+         */
+        com.google.protobuf.ByteString
+            getRoutingSpaceNameBytes();
+
+        // repeated uint32 dimensionHandles = 3;
+        /**
+         * <code>repeated uint32 dimensionHandles = 3;</code>
+         */
+        java.util.List<java.lang.Integer> getDimensionHandlesList();
+        /**
+         * <code>repeated uint32 dimensionHandles = 3;</code>
+         */
+        int getDimensionHandlesCount();
+        /**
+         * <code>repeated uint32 dimensionHandles = 3;</code>
+         */
+        int getDimensionHandles(int index);
+
+        // repeated string aliases = 4;
+        /**
+         * <code>repeated string aliases = 4;</code>
+         */
+        java.util.List<java.lang.String>
+        getAliasesList();
+        /**
+         * <code>repeated string aliases = 4;</code>
+         */
+        int getAliasesCount();
+        /**
+         * <code>repeated string aliases = 4;</code>
+         */
+        java.lang.String getAliases(int index);
+        /**
+         * <code>repeated string aliases = 4;</code>
+         */
+        com.google.protobuf.ByteString
+            getAliasesBytes(int index);
+      }
+      /**
+       * Protobuf type {@code ohla.rti.proto.FDD.FED.RoutingSpace}
+       */
+      public static final class RoutingSpace extends
+          com.google.protobuf.GeneratedMessage
+          implements RoutingSpaceOrBuilder {
+        // Use RoutingSpace.newBuilder() to construct.
+        private RoutingSpace(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+          super(builder);
+          this.unknownFields = builder.getUnknownFields();
+        }
+        private RoutingSpace(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+        private static final RoutingSpace defaultInstance;
+        public static RoutingSpace getDefaultInstance() {
+          return defaultInstance;
+        }
+
+        public RoutingSpace getDefaultInstanceForType() {
+          return defaultInstance;
+        }
+
+        private final com.google.protobuf.UnknownFieldSet unknownFields;
+        @java.lang.Override
+        public final com.google.protobuf.UnknownFieldSet
+            getUnknownFields() {
+          return this.unknownFields;
+        }
+        private RoutingSpace(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          initFields();
+          int mutable_bitField0_ = 0;
+          com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+              com.google.protobuf.UnknownFieldSet.newBuilder();
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                default: {
+                  if (!parseUnknownField(input, unknownFields,
+                                         extensionRegistry, tag)) {
+                    done = true;
+                  }
+                  break;
+                }
+                case 8: {
+                  bitField0_ |= 0x00000001;
+                  routingSpaceHandle_ = input.readUInt32();
+                  break;
+                }
+                case 18: {
+                  bitField0_ |= 0x00000002;
+                  routingSpaceName_ = input.readBytes();
+                  break;
+                }
+                case 24: {
+                  if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                    dimensionHandles_ = new java.util.ArrayList<java.lang.Integer>();
+                    mutable_bitField0_ |= 0x00000004;
+                  }
+                  dimensionHandles_.add(input.readUInt32());
+                  break;
+                }
+                case 26: {
+                  int length = input.readRawVarint32();
+                  int limit = input.pushLimit(length);
+                  if (!((mutable_bitField0_ & 0x00000004) == 0x00000004) && input.getBytesUntilLimit() > 0) {
+                    dimensionHandles_ = new java.util.ArrayList<java.lang.Integer>();
+                    mutable_bitField0_ |= 0x00000004;
+                  }
+                  while (input.getBytesUntilLimit() > 0) {
+                    dimensionHandles_.add(input.readUInt32());
+                  }
+                  input.popLimit(limit);
+                  break;
+                }
+                case 34: {
+                  if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                    aliases_ = new com.google.protobuf.LazyStringArrayList();
+                    mutable_bitField0_ |= 0x00000008;
+                  }
+                  aliases_.add(input.readBytes());
+                  break;
+                }
+              }
+            }
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(this);
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this);
+          } finally {
+            if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+              dimensionHandles_ = java.util.Collections.unmodifiableList(dimensionHandles_);
+            }
+            if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+              aliases_ = new com.google.protobuf.UnmodifiableLazyStringList(aliases_);
+            }
+            this.unknownFields = unknownFields.build();
+            makeExtensionsImmutable();
+          }
+        }
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_FED_RoutingSpace_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_FED_RoutingSpace_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.Builder.class);
+        }
+
+        public static com.google.protobuf.Parser<RoutingSpace> PARSER =
+            new com.google.protobuf.AbstractParser<RoutingSpace>() {
+          public RoutingSpace parsePartialFrom(
+              com.google.protobuf.CodedInputStream input,
+              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+              throws com.google.protobuf.InvalidProtocolBufferException {
+            return new RoutingSpace(input, extensionRegistry);
+          }
+        };
+
+        @java.lang.Override
+        public com.google.protobuf.Parser<RoutingSpace> getParserForType() {
+          return PARSER;
+        }
+
+        private int bitField0_;
+        // required uint32 routingSpaceHandle = 1;
+        public static final int ROUTINGSPACEHANDLE_FIELD_NUMBER = 1;
+        private int routingSpaceHandle_;
+        /**
+         * <code>required uint32 routingSpaceHandle = 1;</code>
+         */
+        public boolean hasRoutingSpaceHandle() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>required uint32 routingSpaceHandle = 1;</code>
+         */
+        public int getRoutingSpaceHandle() {
+          return routingSpaceHandle_;
+        }
+
+        // required string routingSpaceName = 2;
+        public static final int ROUTINGSPACENAME_FIELD_NUMBER = 2;
+        private java.lang.Object routingSpaceName_;
+        /**
+         * <code>required string routingSpaceName = 2;</code>
+         */
+        public boolean hasRoutingSpaceName() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>required string routingSpaceName = 2;</code>
+         */
+        public java.lang.String getRoutingSpaceName() {
+          java.lang.Object ref = routingSpaceName_;
+          if (ref instanceof java.lang.String) {
+            return (java.lang.String) ref;
+          } else {
+            com.google.protobuf.ByteString bs = 
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              routingSpaceName_ = s;
+            }
+            return s;
+          }
+        }
+        /**
+         * <code>required string routingSpaceName = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getRoutingSpaceNameBytes() {
+          java.lang.Object ref = routingSpaceName_;
+          if (ref instanceof java.lang.String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            routingSpaceName_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+
+        // repeated uint32 dimensionHandles = 3;
+        public static final int DIMENSIONHANDLES_FIELD_NUMBER = 3;
+        private java.util.List<java.lang.Integer> dimensionHandles_;
+        /**
+         * <code>repeated uint32 dimensionHandles = 3;</code>
+         */
+        public java.util.List<java.lang.Integer>
+            getDimensionHandlesList() {
+          return dimensionHandles_;
+        }
+        /**
+         * <code>repeated uint32 dimensionHandles = 3;</code>
+         */
+        public int getDimensionHandlesCount() {
+          return dimensionHandles_.size();
+        }
+        /**
+         * <code>repeated uint32 dimensionHandles = 3;</code>
+         */
+        public int getDimensionHandles(int index) {
+          return dimensionHandles_.get(index);
+        }
+
+        // repeated string aliases = 4;
+        public static final int ALIASES_FIELD_NUMBER = 4;
+        private com.google.protobuf.LazyStringList aliases_;
+        /**
+         * <code>repeated string aliases = 4;</code>
+         */
+        public java.util.List<java.lang.String>
+            getAliasesList() {
+          return aliases_;
+        }
+        /**
+         * <code>repeated string aliases = 4;</code>
+         */
+        public int getAliasesCount() {
+          return aliases_.size();
+        }
+        /**
+         * <code>repeated string aliases = 4;</code>
+         */
+        public java.lang.String getAliases(int index) {
+          return aliases_.get(index);
+        }
+        /**
+         * <code>repeated string aliases = 4;</code>
+         */
+        public com.google.protobuf.ByteString
+            getAliasesBytes(int index) {
+          return aliases_.getByteString(index);
+        }
+
+        private void initFields() {
+          routingSpaceHandle_ = 0;
+          routingSpaceName_ = "";
+          dimensionHandles_ = java.util.Collections.emptyList();
+          aliases_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        }
+        private byte memoizedIsInitialized = -1;
+        public final boolean isInitialized() {
+          byte isInitialized = memoizedIsInitialized;
+          if (isInitialized != -1) return isInitialized == 1;
+
+          if (!hasRoutingSpaceHandle()) {
+            memoizedIsInitialized = 0;
+            return false;
+          }
+          if (!hasRoutingSpaceName()) {
+            memoizedIsInitialized = 0;
+            return false;
+          }
+          memoizedIsInitialized = 1;
+          return true;
+        }
+
+        public void writeTo(com.google.protobuf.CodedOutputStream output)
+                            throws java.io.IOException {
+          getSerializedSize();
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            output.writeUInt32(1, routingSpaceHandle_);
+          }
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            output.writeBytes(2, getRoutingSpaceNameBytes());
+          }
+          for (int i = 0; i < dimensionHandles_.size(); i++) {
+            output.writeUInt32(3, dimensionHandles_.get(i));
+          }
+          for (int i = 0; i < aliases_.size(); i++) {
+            output.writeBytes(4, aliases_.getByteString(i));
+          }
+          getUnknownFields().writeTo(output);
+        }
+
+        private int memoizedSerializedSize = -1;
+        public int getSerializedSize() {
+          int size = memoizedSerializedSize;
+          if (size != -1) return size;
+
+          size = 0;
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            size += com.google.protobuf.CodedOutputStream
+              .computeUInt32Size(1, routingSpaceHandle_);
+          }
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            size += com.google.protobuf.CodedOutputStream
+              .computeBytesSize(2, getRoutingSpaceNameBytes());
+          }
+          {
+            int dataSize = 0;
+            for (int i = 0; i < dimensionHandles_.size(); i++) {
+              dataSize += com.google.protobuf.CodedOutputStream
+                .computeUInt32SizeNoTag(dimensionHandles_.get(i));
+            }
+            size += dataSize;
+            size += 1 * getDimensionHandlesList().size();
+          }
+          {
+            int dataSize = 0;
+            for (int i = 0; i < aliases_.size(); i++) {
+              dataSize += com.google.protobuf.CodedOutputStream
+                .computeBytesSizeNoTag(aliases_.getByteString(i));
+            }
+            size += dataSize;
+            size += 1 * getAliasesList().size();
+          }
+          size += getUnknownFields().getSerializedSize();
+          memoizedSerializedSize = size;
+          return size;
+        }
+
+        private static final long serialVersionUID = 0L;
+        @java.lang.Override
+        protected java.lang.Object writeReplace()
+            throws java.io.ObjectStreamException {
+          return super.writeReplace();
+        }
+
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace parseFrom(
+            com.google.protobuf.ByteString data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return PARSER.parseFrom(data);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace parseFrom(
+            com.google.protobuf.ByteString data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return PARSER.parseFrom(data, extensionRegistry);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace parseFrom(byte[] data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return PARSER.parseFrom(data);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace parseFrom(
+            byte[] data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return PARSER.parseFrom(data, extensionRegistry);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace parseFrom(java.io.InputStream input)
+            throws java.io.IOException {
+          return PARSER.parseFrom(input);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace parseFrom(
+            java.io.InputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          return PARSER.parseFrom(input, extensionRegistry);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace parseDelimitedFrom(java.io.InputStream input)
+            throws java.io.IOException {
+          return PARSER.parseDelimitedFrom(input);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace parseDelimitedFrom(
+            java.io.InputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          return PARSER.parseDelimitedFrom(input, extensionRegistry);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace parseFrom(
+            com.google.protobuf.CodedInputStream input)
+            throws java.io.IOException {
+          return PARSER.parseFrom(input);
+        }
+        public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace parseFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          return PARSER.parseFrom(input, extensionRegistry);
+        }
+
+        public static Builder newBuilder() { return Builder.create(); }
+        public Builder newBuilderForType() { return newBuilder(); }
+        public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace prototype) {
+          return newBuilder().mergeFrom(prototype);
+        }
+        public Builder toBuilder() { return newBuilder(this); }
+
+        @java.lang.Override
+        protected Builder newBuilderForType(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          Builder builder = new Builder(parent);
+          return builder;
+        }
+        /**
+         * Protobuf type {@code ohla.rti.proto.FDD.FED.RoutingSpace}
+         */
+        public static final class Builder extends
+            com.google.protobuf.GeneratedMessage.Builder<Builder>
+           implements net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpaceOrBuilder {
+          public static final com.google.protobuf.Descriptors.Descriptor
+              getDescriptor() {
+            return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_FED_RoutingSpace_descriptor;
+          }
+
+          protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+              internalGetFieldAccessorTable() {
+            return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_FED_RoutingSpace_fieldAccessorTable
+                .ensureFieldAccessorsInitialized(
+                    net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.Builder.class);
+          }
+
+          // Construct using net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.newBuilder()
+          private Builder() {
+            maybeForceBuilderInitialization();
+          }
+
+          private Builder(
+              com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+            super(parent);
+            maybeForceBuilderInitialization();
+          }
+          private void maybeForceBuilderInitialization() {
+            if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            }
+          }
+          private static Builder create() {
+            return new Builder();
+          }
+
+          public Builder clear() {
+            super.clear();
+            routingSpaceHandle_ = 0;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            routingSpaceName_ = "";
+            bitField0_ = (bitField0_ & ~0x00000002);
+            dimensionHandles_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000004);
+            aliases_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+            bitField0_ = (bitField0_ & ~0x00000008);
+            return this;
+          }
+
+          public Builder clone() {
+            return create().mergeFrom(buildPartial());
+          }
+
+          public com.google.protobuf.Descriptors.Descriptor
+              getDescriptorForType() {
+            return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_FED_RoutingSpace_descriptor;
+          }
+
+          public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace getDefaultInstanceForType() {
+            return net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.getDefaultInstance();
+          }
+
+          public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace build() {
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace result = buildPartial();
+            if (!result.isInitialized()) {
+              throw newUninitializedMessageException(result);
+            }
+            return result;
+          }
+
+          public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace buildPartial() {
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace result = new net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace(this);
+            int from_bitField0_ = bitField0_;
+            int to_bitField0_ = 0;
+            if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+              to_bitField0_ |= 0x00000001;
+            }
+            result.routingSpaceHandle_ = routingSpaceHandle_;
+            if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+              to_bitField0_ |= 0x00000002;
+            }
+            result.routingSpaceName_ = routingSpaceName_;
+            if (((bitField0_ & 0x00000004) == 0x00000004)) {
+              dimensionHandles_ = java.util.Collections.unmodifiableList(dimensionHandles_);
+              bitField0_ = (bitField0_ & ~0x00000004);
+            }
+            result.dimensionHandles_ = dimensionHandles_;
+            if (((bitField0_ & 0x00000008) == 0x00000008)) {
+              aliases_ = new com.google.protobuf.UnmodifiableLazyStringList(
+                  aliases_);
+              bitField0_ = (bitField0_ & ~0x00000008);
+            }
+            result.aliases_ = aliases_;
+            result.bitField0_ = to_bitField0_;
+            onBuilt();
+            return result;
+          }
+
+          public Builder mergeFrom(com.google.protobuf.Message other) {
+            if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace) {
+              return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace)other);
+            } else {
+              super.mergeFrom(other);
+              return this;
+            }
+          }
+
+          public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace other) {
+            if (other == net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.getDefaultInstance()) return this;
+            if (other.hasRoutingSpaceHandle()) {
+              setRoutingSpaceHandle(other.getRoutingSpaceHandle());
+            }
+            if (other.hasRoutingSpaceName()) {
+              bitField0_ |= 0x00000002;
+              routingSpaceName_ = other.routingSpaceName_;
+              onChanged();
+            }
+            if (!other.dimensionHandles_.isEmpty()) {
+              if (dimensionHandles_.isEmpty()) {
+                dimensionHandles_ = other.dimensionHandles_;
+                bitField0_ = (bitField0_ & ~0x00000004);
+              } else {
+                ensureDimensionHandlesIsMutable();
+                dimensionHandles_.addAll(other.dimensionHandles_);
+              }
+              onChanged();
+            }
+            if (!other.aliases_.isEmpty()) {
+              if (aliases_.isEmpty()) {
+                aliases_ = other.aliases_;
+                bitField0_ = (bitField0_ & ~0x00000008);
+              } else {
+                ensureAliasesIsMutable();
+                aliases_.addAll(other.aliases_);
+              }
+              onChanged();
+            }
+            this.mergeUnknownFields(other.getUnknownFields());
+            return this;
+          }
+
+          public final boolean isInitialized() {
+            if (!hasRoutingSpaceHandle()) {
+              
+              return false;
+            }
+            if (!hasRoutingSpaceName()) {
+              
+              return false;
+            }
+            return true;
+          }
+
+          public Builder mergeFrom(
+              com.google.protobuf.CodedInputStream input,
+              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+              throws java.io.IOException {
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace parsedMessage = null;
+            try {
+              parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+              parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace) e.getUnfinishedMessage();
+              throw e;
+            } finally {
+              if (parsedMessage != null) {
+                mergeFrom(parsedMessage);
+              }
+            }
+            return this;
+          }
+          private int bitField0_;
+
+          // required uint32 routingSpaceHandle = 1;
+          private int routingSpaceHandle_ ;
+          /**
+           * <code>required uint32 routingSpaceHandle = 1;</code>
+           */
+          public boolean hasRoutingSpaceHandle() {
+            return ((bitField0_ & 0x00000001) == 0x00000001);
+          }
+          /**
+           * <code>required uint32 routingSpaceHandle = 1;</code>
+           */
+          public int getRoutingSpaceHandle() {
+            return routingSpaceHandle_;
+          }
+          /**
+           * <code>required uint32 routingSpaceHandle = 1;</code>
+           */
+          public Builder setRoutingSpaceHandle(int value) {
+            bitField0_ |= 0x00000001;
+            routingSpaceHandle_ = value;
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>required uint32 routingSpaceHandle = 1;</code>
+           */
+          public Builder clearRoutingSpaceHandle() {
+            bitField0_ = (bitField0_ & ~0x00000001);
+            routingSpaceHandle_ = 0;
+            onChanged();
+            return this;
+          }
+
+          // required string routingSpaceName = 2;
+          private java.lang.Object routingSpaceName_ = "";
+          /**
+           * <code>required string routingSpaceName = 2;</code>
+           */
+          public boolean hasRoutingSpaceName() {
+            return ((bitField0_ & 0x00000002) == 0x00000002);
+          }
+          /**
+           * <code>required string routingSpaceName = 2;</code>
+           */
+          public java.lang.String getRoutingSpaceName() {
+            java.lang.Object ref = routingSpaceName_;
+            if (!(ref instanceof java.lang.String)) {
+              java.lang.String s = ((com.google.protobuf.ByteString) ref)
+                  .toStringUtf8();
+              routingSpaceName_ = s;
+              return s;
+            } else {
+              return (java.lang.String) ref;
+            }
+          }
+          /**
+           * <code>required string routingSpaceName = 2;</code>
+           */
+          public com.google.protobuf.ByteString
+              getRoutingSpaceNameBytes() {
+            java.lang.Object ref = routingSpaceName_;
+            if (ref instanceof String) {
+              com.google.protobuf.ByteString b = 
+                  com.google.protobuf.ByteString.copyFromUtf8(
+                      (java.lang.String) ref);
+              routingSpaceName_ = b;
+              return b;
+            } else {
+              return (com.google.protobuf.ByteString) ref;
+            }
+          }
+          /**
+           * <code>required string routingSpaceName = 2;</code>
+           */
+          public Builder setRoutingSpaceName(
+              java.lang.String value) {
+            if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+            routingSpaceName_ = value;
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>required string routingSpaceName = 2;</code>
+           */
+          public Builder clearRoutingSpaceName() {
+            bitField0_ = (bitField0_ & ~0x00000002);
+            routingSpaceName_ = getDefaultInstance().getRoutingSpaceName();
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>required string routingSpaceName = 2;</code>
+           */
+          public Builder setRoutingSpaceNameBytes(
+              com.google.protobuf.ByteString value) {
+            if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+            routingSpaceName_ = value;
+            onChanged();
+            return this;
+          }
+
+          // repeated uint32 dimensionHandles = 3;
+          private java.util.List<java.lang.Integer> dimensionHandles_ = java.util.Collections.emptyList();
+          private void ensureDimensionHandlesIsMutable() {
+            if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+              dimensionHandles_ = new java.util.ArrayList<java.lang.Integer>(dimensionHandles_);
+              bitField0_ |= 0x00000004;
+             }
+          }
+          /**
+           * <code>repeated uint32 dimensionHandles = 3;</code>
+           */
+          public java.util.List<java.lang.Integer>
+              getDimensionHandlesList() {
+            return java.util.Collections.unmodifiableList(dimensionHandles_);
+          }
+          /**
+           * <code>repeated uint32 dimensionHandles = 3;</code>
+           */
+          public int getDimensionHandlesCount() {
+            return dimensionHandles_.size();
+          }
+          /**
+           * <code>repeated uint32 dimensionHandles = 3;</code>
+           */
+          public int getDimensionHandles(int index) {
+            return dimensionHandles_.get(index);
+          }
+          /**
+           * <code>repeated uint32 dimensionHandles = 3;</code>
+           */
+          public Builder setDimensionHandles(
+              int index, int value) {
+            ensureDimensionHandlesIsMutable();
+            dimensionHandles_.set(index, value);
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>repeated uint32 dimensionHandles = 3;</code>
+           */
+          public Builder addDimensionHandles(int value) {
+            ensureDimensionHandlesIsMutable();
+            dimensionHandles_.add(value);
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>repeated uint32 dimensionHandles = 3;</code>
+           */
+          public Builder addAllDimensionHandles(
+              java.lang.Iterable<? extends java.lang.Integer> values) {
+            ensureDimensionHandlesIsMutable();
+            super.addAll(values, dimensionHandles_);
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>repeated uint32 dimensionHandles = 3;</code>
+           */
+          public Builder clearDimensionHandles() {
+            dimensionHandles_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000004);
+            onChanged();
+            return this;
+          }
+
+          // repeated string aliases = 4;
+          private com.google.protobuf.LazyStringList aliases_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+          private void ensureAliasesIsMutable() {
+            if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+              aliases_ = new com.google.protobuf.LazyStringArrayList(aliases_);
+              bitField0_ |= 0x00000008;
+             }
+          }
+          /**
+           * <code>repeated string aliases = 4;</code>
+           */
+          public java.util.List<java.lang.String>
+              getAliasesList() {
+            return java.util.Collections.unmodifiableList(aliases_);
+          }
+          /**
+           * <code>repeated string aliases = 4;</code>
+           */
+          public int getAliasesCount() {
+            return aliases_.size();
+          }
+          /**
+           * <code>repeated string aliases = 4;</code>
+           */
+          public java.lang.String getAliases(int index) {
+            return aliases_.get(index);
+          }
+          /**
+           * <code>repeated string aliases = 4;</code>
+           */
+          public com.google.protobuf.ByteString
+              getAliasesBytes(int index) {
+            return aliases_.getByteString(index);
+          }
+          /**
+           * <code>repeated string aliases = 4;</code>
+           */
+          public Builder setAliases(
+              int index, java.lang.String value) {
+            if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAliasesIsMutable();
+            aliases_.set(index, value);
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>repeated string aliases = 4;</code>
+           */
+          public Builder addAliases(
+              java.lang.String value) {
+            if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAliasesIsMutable();
+            aliases_.add(value);
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>repeated string aliases = 4;</code>
+           */
+          public Builder addAllAliases(
+              java.lang.Iterable<java.lang.String> values) {
+            ensureAliasesIsMutable();
+            super.addAll(values, aliases_);
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>repeated string aliases = 4;</code>
+           */
+          public Builder clearAliases() {
+            aliases_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+            bitField0_ = (bitField0_ & ~0x00000008);
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>repeated string aliases = 4;</code>
+           */
+          public Builder addAliasesBytes(
+              com.google.protobuf.ByteString value) {
+            if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAliasesIsMutable();
+            aliases_.add(value);
+            onChanged();
+            return this;
+          }
+
+          // @@protoc_insertion_point(builder_scope:ohla.rti.proto.FDD.FED.RoutingSpace)
+        }
+
+        static {
+          defaultInstance = new RoutingSpace(true);
+          defaultInstance.initFields();
+        }
+
+        // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD.FED.RoutingSpace)
+      }
+
+      private int bitField0_;
+      // optional string fedName = 1;
+      public static final int FEDNAME_FIELD_NUMBER = 1;
+      private java.lang.Object fedName_;
+      /**
+       * <code>optional string fedName = 1;</code>
+       */
+      public boolean hasFedName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string fedName = 1;</code>
+       */
+      public java.lang.String getFedName() {
+        java.lang.Object ref = fedName_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            fedName_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string fedName = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFedNameBytes() {
+        java.lang.Object ref = fedName_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fedName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      // repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;
+      public static final int ROUTINGSPACE_FIELD_NUMBER = 2;
+      private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace> routingSpace_;
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace> getRoutingSpaceList() {
+        return routingSpace_;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+       */
+      public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpaceOrBuilder> 
+          getRoutingSpaceOrBuilderList() {
+        return routingSpace_;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+       */
+      public int getRoutingSpaceCount() {
+        return routingSpace_.size();
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace getRoutingSpace(int index) {
+        return routingSpace_.get(index);
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpaceOrBuilder getRoutingSpaceOrBuilder(
+          int index) {
+        return routingSpace_.get(index);
+      }
+
+      private void initFields() {
+        fedName_ = "";
+        routingSpace_ = java.util.Collections.emptyList();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized != -1) return isInitialized == 1;
+
+        for (int i = 0; i < getRoutingSpaceCount(); i++) {
+          if (!getRoutingSpace(i).isInitialized()) {
+            memoizedIsInitialized = 0;
+            return false;
+          }
+        }
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getFedNameBytes());
+        }
+        for (int i = 0; i < routingSpace_.size(); i++) {
+          output.writeMessage(2, routingSpace_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getFedNameBytes());
+        }
+        for (int i = 0; i < routingSpace_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, routingSpace_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static net.sf.ohla.rti.proto.OHLAProtos.FDD.FED parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.FDD.FED prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ohla.rti.proto.FDD.FED}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder>
+         implements net.sf.ohla.rti.proto.OHLAProtos.FDD.FEDOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_FED_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_FED_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.Builder.class);
+        }
+
+        // Construct using net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getRoutingSpaceFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          fedName_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          if (routingSpaceBuilder_ == null) {
+            routingSpace_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            routingSpaceBuilder_.clear();
+          }
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_FED_descriptor;
+        }
+
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED getDefaultInstanceForType() {
+          return net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.getDefaultInstance();
+        }
+
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED build() {
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.FED result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED buildPartial() {
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.FED result = new net.sf.ohla.rti.proto.OHLAProtos.FDD.FED(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.fedName_ = fedName_;
+          if (routingSpaceBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) == 0x00000002)) {
+              routingSpace_ = java.util.Collections.unmodifiableList(routingSpace_);
+              bitField0_ = (bitField0_ & ~0x00000002);
+            }
+            result.routingSpace_ = routingSpace_;
+          } else {
+            result.routingSpace_ = routingSpaceBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.FDD.FED) {
+            return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.FDD.FED)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.FDD.FED other) {
+          if (other == net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.getDefaultInstance()) return this;
+          if (other.hasFedName()) {
+            bitField0_ |= 0x00000001;
+            fedName_ = other.fedName_;
+            onChanged();
+          }
+          if (routingSpaceBuilder_ == null) {
+            if (!other.routingSpace_.isEmpty()) {
+              if (routingSpace_.isEmpty()) {
+                routingSpace_ = other.routingSpace_;
+                bitField0_ = (bitField0_ & ~0x00000002);
+              } else {
+                ensureRoutingSpaceIsMutable();
+                routingSpace_.addAll(other.routingSpace_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.routingSpace_.isEmpty()) {
+              if (routingSpaceBuilder_.isEmpty()) {
+                routingSpaceBuilder_.dispose();
+                routingSpaceBuilder_ = null;
+                routingSpace_ = other.routingSpace_;
+                bitField0_ = (bitField0_ & ~0x00000002);
+                routingSpaceBuilder_ = 
+                  com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                     getRoutingSpaceFieldBuilder() : null;
+              } else {
+                routingSpaceBuilder_.addAllMessages(other.routingSpace_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          for (int i = 0; i < getRoutingSpaceCount(); i++) {
+            if (!getRoutingSpace(i).isInitialized()) {
+              
+              return false;
+            }
+          }
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.FED parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.FDD.FED) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        // optional string fedName = 1;
+        private java.lang.Object fedName_ = "";
+        /**
+         * <code>optional string fedName = 1;</code>
+         */
+        public boolean hasFedName() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string fedName = 1;</code>
+         */
+        public java.lang.String getFedName() {
+          java.lang.Object ref = fedName_;
+          if (!(ref instanceof java.lang.String)) {
+            java.lang.String s = ((com.google.protobuf.ByteString) ref)
+                .toStringUtf8();
+            fedName_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string fedName = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getFedNameBytes() {
+          java.lang.Object ref = fedName_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            fedName_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string fedName = 1;</code>
+         */
+        public Builder setFedName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          fedName_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string fedName = 1;</code>
+         */
+        public Builder clearFedName() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          fedName_ = getDefaultInstance().getFedName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string fedName = 1;</code>
+         */
+        public Builder setFedNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          fedName_ = value;
+          onChanged();
+          return this;
+        }
+
+        // repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;
+        private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace> routingSpace_ =
+          java.util.Collections.emptyList();
+        private void ensureRoutingSpaceIsMutable() {
+          if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+            routingSpace_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace>(routingSpace_);
+            bitField0_ |= 0x00000002;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilder<
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpaceOrBuilder> routingSpaceBuilder_;
+
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace> getRoutingSpaceList() {
+          if (routingSpaceBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(routingSpace_);
+          } else {
+            return routingSpaceBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public int getRoutingSpaceCount() {
+          if (routingSpaceBuilder_ == null) {
+            return routingSpace_.size();
+          } else {
+            return routingSpaceBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace getRoutingSpace(int index) {
+          if (routingSpaceBuilder_ == null) {
+            return routingSpace_.get(index);
+          } else {
+            return routingSpaceBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public Builder setRoutingSpace(
+            int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace value) {
+          if (routingSpaceBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureRoutingSpaceIsMutable();
+            routingSpace_.set(index, value);
+            onChanged();
+          } else {
+            routingSpaceBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public Builder setRoutingSpace(
+            int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.Builder builderForValue) {
+          if (routingSpaceBuilder_ == null) {
+            ensureRoutingSpaceIsMutable();
+            routingSpace_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            routingSpaceBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public Builder addRoutingSpace(net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace value) {
+          if (routingSpaceBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureRoutingSpaceIsMutable();
+            routingSpace_.add(value);
+            onChanged();
+          } else {
+            routingSpaceBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public Builder addRoutingSpace(
+            int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace value) {
+          if (routingSpaceBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureRoutingSpaceIsMutable();
+            routingSpace_.add(index, value);
+            onChanged();
+          } else {
+            routingSpaceBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public Builder addRoutingSpace(
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.Builder builderForValue) {
+          if (routingSpaceBuilder_ == null) {
+            ensureRoutingSpaceIsMutable();
+            routingSpace_.add(builderForValue.build());
+            onChanged();
+          } else {
+            routingSpaceBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public Builder addRoutingSpace(
+            int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.Builder builderForValue) {
+          if (routingSpaceBuilder_ == null) {
+            ensureRoutingSpaceIsMutable();
+            routingSpace_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            routingSpaceBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public Builder addAllRoutingSpace(
+            java.lang.Iterable<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace> values) {
+          if (routingSpaceBuilder_ == null) {
+            ensureRoutingSpaceIsMutable();
+            super.addAll(values, routingSpace_);
+            onChanged();
+          } else {
+            routingSpaceBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public Builder clearRoutingSpace() {
+          if (routingSpaceBuilder_ == null) {
+            routingSpace_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000002);
+            onChanged();
+          } else {
+            routingSpaceBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public Builder removeRoutingSpace(int index) {
+          if (routingSpaceBuilder_ == null) {
+            ensureRoutingSpaceIsMutable();
+            routingSpace_.remove(index);
+            onChanged();
+          } else {
+            routingSpaceBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.Builder getRoutingSpaceBuilder(
+            int index) {
+          return getRoutingSpaceFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpaceOrBuilder getRoutingSpaceOrBuilder(
+            int index) {
+          if (routingSpaceBuilder_ == null) {
+            return routingSpace_.get(index);  } else {
+            return routingSpaceBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpaceOrBuilder> 
+             getRoutingSpaceOrBuilderList() {
+          if (routingSpaceBuilder_ != null) {
+            return routingSpaceBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(routingSpace_);
+          }
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.Builder addRoutingSpaceBuilder() {
+          return getRoutingSpaceFieldBuilder().addBuilder(
+              net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.Builder addRoutingSpaceBuilder(
+            int index) {
+          return getRoutingSpaceFieldBuilder().addBuilder(
+              index, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ohla.rti.proto.FDD.FED.RoutingSpace routingSpace = 2;</code>
+         */
+        public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.Builder> 
+             getRoutingSpaceBuilderList() {
+          return getRoutingSpaceFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilder<
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpaceOrBuilder> 
+            getRoutingSpaceFieldBuilder() {
+          if (routingSpaceBuilder_ == null) {
+            routingSpaceBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+                net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpace.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.RoutingSpaceOrBuilder>(
+                    routingSpace_,
+                    ((bitField0_ & 0x00000002) == 0x00000002),
+                    getParentForChildren(),
+                    isClean());
+            routingSpace_ = null;
+          }
+          return routingSpaceBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ohla.rti.proto.FDD.FED)
+      }
+
+      static {
+        defaultInstance = new FED(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD.FED)
+    }
+
+    private int bitField0_;
+    // repeated string sources = 1;
+    public static final int SOURCES_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList sources_;
+    /**
+     * <code>repeated string sources = 1;</code>
+     */
+    public java.util.List<java.lang.String>
+        getSourcesList() {
+      return sources_;
+    }
+    /**
+     * <code>repeated string sources = 1;</code>
+     */
+    public int getSourcesCount() {
+      return sources_.size();
+    }
+    /**
+     * <code>repeated string sources = 1;</code>
+     */
+    public java.lang.String getSources(int index) {
+      return sources_.get(index);
+    }
+    /**
+     * <code>repeated string sources = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSourcesBytes(int index) {
+      return sources_.getByteString(index);
+    }
+
+    // repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;
+    public static final int OBJECTCLASSES_FIELD_NUMBER = 2;
+    private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass> objectClasses_;
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+     */
+    public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass> getObjectClassesList() {
+      return objectClasses_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+     */
+    public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClassOrBuilder> 
+        getObjectClassesOrBuilderList() {
+      return objectClasses_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+     */
+    public int getObjectClassesCount() {
+      return objectClasses_.size();
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass getObjectClasses(int index) {
+      return objectClasses_.get(index);
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClassOrBuilder getObjectClassesOrBuilder(
+        int index) {
+      return objectClasses_.get(index);
+    }
+
+    // repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;
+    public static final int INTERACTIONCLASSES_FIELD_NUMBER = 3;
+    private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass> interactionClasses_;
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+     */
+    public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass> getInteractionClassesList() {
+      return interactionClasses_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+     */
+    public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClassOrBuilder> 
+        getInteractionClassesOrBuilderList() {
+      return interactionClasses_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+     */
+    public int getInteractionClassesCount() {
+      return interactionClasses_.size();
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass getInteractionClasses(int index) {
+      return interactionClasses_.get(index);
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClassOrBuilder getInteractionClassesOrBuilder(
+        int index) {
+      return interactionClasses_.get(index);
+    }
+
+    // repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;
+    public static final int DIMENSIONS_FIELD_NUMBER = 4;
+    private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension> dimensions_;
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+     */
+    public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension> getDimensionsList() {
+      return dimensions_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+     */
+    public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.DimensionOrBuilder> 
+        getDimensionsOrBuilderList() {
+      return dimensions_;
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+     */
+    public int getDimensionsCount() {
+      return dimensions_.size();
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension getDimensions(int index) {
+      return dimensions_.get(index);
+    }
+    /**
+     * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.FDD.DimensionOrBuilder getDimensionsOrBuilder(
+        int index) {
+      return dimensions_.get(index);
+    }
+
+    // required .ohla.rti.proto.FDD.FED fed = 5;
+    public static final int FED_FIELD_NUMBER = 5;
+    private net.sf.ohla.rti.proto.OHLAProtos.FDD.FED fed_;
+    /**
+     * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+     */
+    public boolean hasFed() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED getFed() {
+      return fed_;
+    }
+    /**
+     * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+     */
+    public net.sf.ohla.rti.proto.OHLAProtos.FDD.FEDOrBuilder getFedOrBuilder() {
+      return fed_;
+    }
+
+    private void initFields() {
+      sources_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      objectClasses_ = java.util.Collections.emptyList();
+      interactionClasses_ = java.util.Collections.emptyList();
+      dimensions_ = java.util.Collections.emptyList();
+      fed_ = net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasFed()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getObjectClassesCount(); i++) {
+        if (!getObjectClasses(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getInteractionClassesCount(); i++) {
+        if (!getInteractionClasses(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getDimensionsCount(); i++) {
+        if (!getDimensions(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (!getFed().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < sources_.size(); i++) {
+        output.writeBytes(1, sources_.getByteString(i));
+      }
+      for (int i = 0; i < objectClasses_.size(); i++) {
+        output.writeMessage(2, objectClasses_.get(i));
+      }
+      for (int i = 0; i < interactionClasses_.size(); i++) {
+        output.writeMessage(3, interactionClasses_.get(i));
+      }
+      for (int i = 0; i < dimensions_.size(); i++) {
+        output.writeMessage(4, dimensions_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(5, fed_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < sources_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(sources_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getSourcesList().size();
+      }
+      for (int i = 0; i < objectClasses_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, objectClasses_.get(i));
+      }
+      for (int i = 0; i < interactionClasses_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, interactionClasses_.get(i));
+      }
+      for (int i = 0; i < dimensions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, dimensions_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, fed_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static net.sf.ohla.rti.proto.OHLAProtos.FDD parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.FDD parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.FDD parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.FDD parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.FDD parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.FDD parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.FDD parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.FDD parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.FDD parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static net.sf.ohla.rti.proto.OHLAProtos.FDD parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(net.sf.ohla.rti.proto.OHLAProtos.FDD prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ohla.rti.proto.FDD}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements net.sf.ohla.rti.proto.OHLAProtos.FDDOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                net.sf.ohla.rti.proto.OHLAProtos.FDD.class, net.sf.ohla.rti.proto.OHLAProtos.FDD.Builder.class);
+      }
+
+      // Construct using net.sf.ohla.rti.proto.OHLAProtos.FDD.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getObjectClassesFieldBuilder();
+          getInteractionClassesFieldBuilder();
+          getDimensionsFieldBuilder();
+          getFedFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        sources_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (objectClassesBuilder_ == null) {
+          objectClasses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          objectClassesBuilder_.clear();
+        }
+        if (interactionClassesBuilder_ == null) {
+          interactionClasses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          interactionClassesBuilder_.clear();
+        }
+        if (dimensionsBuilder_ == null) {
+          dimensions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          dimensionsBuilder_.clear();
+        }
+        if (fedBuilder_ == null) {
+          fed_ = net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.getDefaultInstance();
+        } else {
+          fedBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.internal_static_ohla_rti_proto_FDD_descriptor;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD getDefaultInstanceForType() {
+        return net.sf.ohla.rti.proto.OHLAProtos.FDD.getDefaultInstance();
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD build() {
+        net.sf.ohla.rti.proto.OHLAProtos.FDD result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD buildPartial() {
+        net.sf.ohla.rti.proto.OHLAProtos.FDD result = new net.sf.ohla.rti.proto.OHLAProtos.FDD(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          sources_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              sources_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.sources_ = sources_;
+        if (objectClassesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            objectClasses_ = java.util.Collections.unmodifiableList(objectClasses_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.objectClasses_ = objectClasses_;
+        } else {
+          result.objectClasses_ = objectClassesBuilder_.build();
+        }
+        if (interactionClassesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            interactionClasses_ = java.util.Collections.unmodifiableList(interactionClasses_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.interactionClasses_ = interactionClasses_;
+        } else {
+          result.interactionClasses_ = interactionClassesBuilder_.build();
+        }
+        if (dimensionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            dimensions_ = java.util.Collections.unmodifiableList(dimensions_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.dimensions_ = dimensions_;
+        } else {
+          result.dimensions_ = dimensionsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (fedBuilder_ == null) {
+          result.fed_ = fed_;
+        } else {
+          result.fed_ = fedBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof net.sf.ohla.rti.proto.OHLAProtos.FDD) {
+          return mergeFrom((net.sf.ohla.rti.proto.OHLAProtos.FDD)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(net.sf.ohla.rti.proto.OHLAProtos.FDD other) {
+        if (other == net.sf.ohla.rti.proto.OHLAProtos.FDD.getDefaultInstance()) return this;
+        if (!other.sources_.isEmpty()) {
+          if (sources_.isEmpty()) {
+            sources_ = other.sources_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureSourcesIsMutable();
+            sources_.addAll(other.sources_);
+          }
+          onChanged();
+        }
+        if (objectClassesBuilder_ == null) {
+          if (!other.objectClasses_.isEmpty()) {
+            if (objectClasses_.isEmpty()) {
+              objectClasses_ = other.objectClasses_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureObjectClassesIsMutable();
+              objectClasses_.addAll(other.objectClasses_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.objectClasses_.isEmpty()) {
+            if (objectClassesBuilder_.isEmpty()) {
+              objectClassesBuilder_.dispose();
+              objectClassesBuilder_ = null;
+              objectClasses_ = other.objectClasses_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              objectClassesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getObjectClassesFieldBuilder() : null;
+            } else {
+              objectClassesBuilder_.addAllMessages(other.objectClasses_);
+            }
+          }
+        }
+        if (interactionClassesBuilder_ == null) {
+          if (!other.interactionClasses_.isEmpty()) {
+            if (interactionClasses_.isEmpty()) {
+              interactionClasses_ = other.interactionClasses_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureInteractionClassesIsMutable();
+              interactionClasses_.addAll(other.interactionClasses_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.interactionClasses_.isEmpty()) {
+            if (interactionClassesBuilder_.isEmpty()) {
+              interactionClassesBuilder_.dispose();
+              interactionClassesBuilder_ = null;
+              interactionClasses_ = other.interactionClasses_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              interactionClassesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getInteractionClassesFieldBuilder() : null;
+            } else {
+              interactionClassesBuilder_.addAllMessages(other.interactionClasses_);
+            }
+          }
+        }
+        if (dimensionsBuilder_ == null) {
+          if (!other.dimensions_.isEmpty()) {
+            if (dimensions_.isEmpty()) {
+              dimensions_ = other.dimensions_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureDimensionsIsMutable();
+              dimensions_.addAll(other.dimensions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.dimensions_.isEmpty()) {
+            if (dimensionsBuilder_.isEmpty()) {
+              dimensionsBuilder_.dispose();
+              dimensionsBuilder_ = null;
+              dimensions_ = other.dimensions_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              dimensionsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getDimensionsFieldBuilder() : null;
+            } else {
+              dimensionsBuilder_.addAllMessages(other.dimensions_);
+            }
+          }
+        }
+        if (other.hasFed()) {
+          mergeFed(other.getFed());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasFed()) {
+          
+          return false;
+        }
+        for (int i = 0; i < getObjectClassesCount(); i++) {
+          if (!getObjectClasses(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getInteractionClassesCount(); i++) {
+          if (!getInteractionClasses(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getDimensionsCount(); i++) {
+          if (!getDimensions(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (!getFed().isInitialized()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        net.sf.ohla.rti.proto.OHLAProtos.FDD parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (net.sf.ohla.rti.proto.OHLAProtos.FDD) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated string sources = 1;
+      private com.google.protobuf.LazyStringList sources_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureSourcesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          sources_ = new com.google.protobuf.LazyStringArrayList(sources_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated string sources = 1;</code>
+       */
+      public java.util.List<java.lang.String>
+          getSourcesList() {
+        return java.util.Collections.unmodifiableList(sources_);
+      }
+      /**
+       * <code>repeated string sources = 1;</code>
+       */
+      public int getSourcesCount() {
+        return sources_.size();
+      }
+      /**
+       * <code>repeated string sources = 1;</code>
+       */
+      public java.lang.String getSources(int index) {
+        return sources_.get(index);
+      }
+      /**
+       * <code>repeated string sources = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSourcesBytes(int index) {
+        return sources_.getByteString(index);
+      }
+      /**
+       * <code>repeated string sources = 1;</code>
+       */
+      public Builder setSources(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSourcesIsMutable();
+        sources_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string sources = 1;</code>
+       */
+      public Builder addSources(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSourcesIsMutable();
+        sources_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string sources = 1;</code>
+       */
+      public Builder addAllSources(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureSourcesIsMutable();
+        super.addAll(values, sources_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string sources = 1;</code>
+       */
+      public Builder clearSources() {
+        sources_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string sources = 1;</code>
+       */
+      public Builder addSourcesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSourcesIsMutable();
+        sources_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;
+      private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass> objectClasses_ =
+        java.util.Collections.emptyList();
+      private void ensureObjectClassesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          objectClasses_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass>(objectClasses_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClassOrBuilder> objectClassesBuilder_;
+
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass> getObjectClassesList() {
+        if (objectClassesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(objectClasses_);
+        } else {
+          return objectClassesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public int getObjectClassesCount() {
+        if (objectClassesBuilder_ == null) {
+          return objectClasses_.size();
+        } else {
+          return objectClassesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass getObjectClasses(int index) {
+        if (objectClassesBuilder_ == null) {
+          return objectClasses_.get(index);
+        } else {
+          return objectClassesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public Builder setObjectClasses(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass value) {
+        if (objectClassesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjectClassesIsMutable();
+          objectClasses_.set(index, value);
+          onChanged();
+        } else {
+          objectClassesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public Builder setObjectClasses(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Builder builderForValue) {
+        if (objectClassesBuilder_ == null) {
+          ensureObjectClassesIsMutable();
+          objectClasses_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          objectClassesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public Builder addObjectClasses(net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass value) {
+        if (objectClassesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjectClassesIsMutable();
+          objectClasses_.add(value);
+          onChanged();
+        } else {
+          objectClassesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public Builder addObjectClasses(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass value) {
+        if (objectClassesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjectClassesIsMutable();
+          objectClasses_.add(index, value);
+          onChanged();
+        } else {
+          objectClassesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public Builder addObjectClasses(
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Builder builderForValue) {
+        if (objectClassesBuilder_ == null) {
+          ensureObjectClassesIsMutable();
+          objectClasses_.add(builderForValue.build());
+          onChanged();
+        } else {
+          objectClassesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public Builder addObjectClasses(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Builder builderForValue) {
+        if (objectClassesBuilder_ == null) {
+          ensureObjectClassesIsMutable();
+          objectClasses_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          objectClassesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public Builder addAllObjectClasses(
+          java.lang.Iterable<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass> values) {
+        if (objectClassesBuilder_ == null) {
+          ensureObjectClassesIsMutable();
+          super.addAll(values, objectClasses_);
+          onChanged();
+        } else {
+          objectClassesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public Builder clearObjectClasses() {
+        if (objectClassesBuilder_ == null) {
+          objectClasses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          objectClassesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public Builder removeObjectClasses(int index) {
+        if (objectClassesBuilder_ == null) {
+          ensureObjectClassesIsMutable();
+          objectClasses_.remove(index);
+          onChanged();
+        } else {
+          objectClassesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Builder getObjectClassesBuilder(
+          int index) {
+        return getObjectClassesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClassOrBuilder getObjectClassesOrBuilder(
+          int index) {
+        if (objectClassesBuilder_ == null) {
+          return objectClasses_.get(index);  } else {
+          return objectClassesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClassOrBuilder> 
+           getObjectClassesOrBuilderList() {
+        if (objectClassesBuilder_ != null) {
+          return objectClassesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(objectClasses_);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Builder addObjectClassesBuilder() {
+        return getObjectClassesFieldBuilder().addBuilder(
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Builder addObjectClassesBuilder(
+          int index) {
+        return getObjectClassesFieldBuilder().addBuilder(
+            index, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.ObjectClass objectClasses = 2;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Builder> 
+           getObjectClassesBuilderList() {
+        return getObjectClassesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClassOrBuilder> 
+          getObjectClassesFieldBuilder() {
+        if (objectClassesBuilder_ == null) {
+          objectClassesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClass.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.ObjectClassOrBuilder>(
+                  objectClasses_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          objectClasses_ = null;
+        }
+        return objectClassesBuilder_;
+      }
+
+      // repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;
+      private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass> interactionClasses_ =
+        java.util.Collections.emptyList();
+      private void ensureInteractionClassesIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          interactionClasses_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass>(interactionClasses_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClassOrBuilder> interactionClassesBuilder_;
+
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass> getInteractionClassesList() {
+        if (interactionClassesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(interactionClasses_);
+        } else {
+          return interactionClassesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public int getInteractionClassesCount() {
+        if (interactionClassesBuilder_ == null) {
+          return interactionClasses_.size();
+        } else {
+          return interactionClassesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass getInteractionClasses(int index) {
+        if (interactionClassesBuilder_ == null) {
+          return interactionClasses_.get(index);
+        } else {
+          return interactionClassesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public Builder setInteractionClasses(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass value) {
+        if (interactionClassesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInteractionClassesIsMutable();
+          interactionClasses_.set(index, value);
+          onChanged();
+        } else {
+          interactionClassesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public Builder setInteractionClasses(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Builder builderForValue) {
+        if (interactionClassesBuilder_ == null) {
+          ensureInteractionClassesIsMutable();
+          interactionClasses_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          interactionClassesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public Builder addInteractionClasses(net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass value) {
+        if (interactionClassesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInteractionClassesIsMutable();
+          interactionClasses_.add(value);
+          onChanged();
+        } else {
+          interactionClassesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public Builder addInteractionClasses(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass value) {
+        if (interactionClassesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInteractionClassesIsMutable();
+          interactionClasses_.add(index, value);
+          onChanged();
+        } else {
+          interactionClassesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public Builder addInteractionClasses(
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Builder builderForValue) {
+        if (interactionClassesBuilder_ == null) {
+          ensureInteractionClassesIsMutable();
+          interactionClasses_.add(builderForValue.build());
+          onChanged();
+        } else {
+          interactionClassesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public Builder addInteractionClasses(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Builder builderForValue) {
+        if (interactionClassesBuilder_ == null) {
+          ensureInteractionClassesIsMutable();
+          interactionClasses_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          interactionClassesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public Builder addAllInteractionClasses(
+          java.lang.Iterable<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass> values) {
+        if (interactionClassesBuilder_ == null) {
+          ensureInteractionClassesIsMutable();
+          super.addAll(values, interactionClasses_);
+          onChanged();
+        } else {
+          interactionClassesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public Builder clearInteractionClasses() {
+        if (interactionClassesBuilder_ == null) {
+          interactionClasses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          interactionClassesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public Builder removeInteractionClasses(int index) {
+        if (interactionClassesBuilder_ == null) {
+          ensureInteractionClassesIsMutable();
+          interactionClasses_.remove(index);
+          onChanged();
+        } else {
+          interactionClassesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Builder getInteractionClassesBuilder(
+          int index) {
+        return getInteractionClassesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClassOrBuilder getInteractionClassesOrBuilder(
+          int index) {
+        if (interactionClassesBuilder_ == null) {
+          return interactionClasses_.get(index);  } else {
+          return interactionClassesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClassOrBuilder> 
+           getInteractionClassesOrBuilderList() {
+        if (interactionClassesBuilder_ != null) {
+          return interactionClassesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(interactionClasses_);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Builder addInteractionClassesBuilder() {
+        return getInteractionClassesFieldBuilder().addBuilder(
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Builder addInteractionClassesBuilder(
+          int index) {
+        return getInteractionClassesFieldBuilder().addBuilder(
+            index, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.InteractionClass interactionClasses = 3;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Builder> 
+           getInteractionClassesBuilderList() {
+        return getInteractionClassesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClassOrBuilder> 
+          getInteractionClassesFieldBuilder() {
+        if (interactionClassesBuilder_ == null) {
+          interactionClassesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClass.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.InteractionClassOrBuilder>(
+                  interactionClasses_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          interactionClasses_ = null;
+        }
+        return interactionClassesBuilder_;
+      }
+
+      // repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;
+      private java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension> dimensions_ =
+        java.util.Collections.emptyList();
+      private void ensureDimensionsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          dimensions_ = new java.util.ArrayList<net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension>(dimensions_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension, net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.DimensionOrBuilder> dimensionsBuilder_;
+
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension> getDimensionsList() {
+        if (dimensionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(dimensions_);
+        } else {
+          return dimensionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public int getDimensionsCount() {
+        if (dimensionsBuilder_ == null) {
+          return dimensions_.size();
+        } else {
+          return dimensionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension getDimensions(int index) {
+        if (dimensionsBuilder_ == null) {
+          return dimensions_.get(index);
+        } else {
+          return dimensionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public Builder setDimensions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension value) {
+        if (dimensionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDimensionsIsMutable();
+          dimensions_.set(index, value);
+          onChanged();
+        } else {
+          dimensionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public Builder setDimensions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.Builder builderForValue) {
+        if (dimensionsBuilder_ == null) {
+          ensureDimensionsIsMutable();
+          dimensions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          dimensionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public Builder addDimensions(net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension value) {
+        if (dimensionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDimensionsIsMutable();
+          dimensions_.add(value);
+          onChanged();
+        } else {
+          dimensionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public Builder addDimensions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension value) {
+        if (dimensionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDimensionsIsMutable();
+          dimensions_.add(index, value);
+          onChanged();
+        } else {
+          dimensionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public Builder addDimensions(
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.Builder builderForValue) {
+        if (dimensionsBuilder_ == null) {
+          ensureDimensionsIsMutable();
+          dimensions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          dimensionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public Builder addDimensions(
+          int index, net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.Builder builderForValue) {
+        if (dimensionsBuilder_ == null) {
+          ensureDimensionsIsMutable();
+          dimensions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          dimensionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public Builder addAllDimensions(
+          java.lang.Iterable<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension> values) {
+        if (dimensionsBuilder_ == null) {
+          ensureDimensionsIsMutable();
+          super.addAll(values, dimensions_);
+          onChanged();
+        } else {
+          dimensionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public Builder clearDimensions() {
+        if (dimensionsBuilder_ == null) {
+          dimensions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          dimensionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public Builder removeDimensions(int index) {
+        if (dimensionsBuilder_ == null) {
+          ensureDimensionsIsMutable();
+          dimensions_.remove(index);
+          onChanged();
+        } else {
+          dimensionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.Builder getDimensionsBuilder(
+          int index) {
+        return getDimensionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.DimensionOrBuilder getDimensionsOrBuilder(
+          int index) {
+        if (dimensionsBuilder_ == null) {
+          return dimensions_.get(index);  } else {
+          return dimensionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public java.util.List<? extends net.sf.ohla.rti.proto.OHLAProtos.FDD.DimensionOrBuilder> 
+           getDimensionsOrBuilderList() {
+        if (dimensionsBuilder_ != null) {
+          return dimensionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(dimensions_);
+        }
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.Builder addDimensionsBuilder() {
+        return getDimensionsFieldBuilder().addBuilder(
+            net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.Builder addDimensionsBuilder(
+          int index) {
+        return getDimensionsFieldBuilder().addBuilder(
+            index, net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ohla.rti.proto.FDD.Dimension dimensions = 4;</code>
+       */
+      public java.util.List<net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.Builder> 
+           getDimensionsBuilderList() {
+        return getDimensionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension, net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.DimensionOrBuilder> 
+          getDimensionsFieldBuilder() {
+        if (dimensionsBuilder_ == null) {
+          dimensionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension, net.sf.ohla.rti.proto.OHLAProtos.FDD.Dimension.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.DimensionOrBuilder>(
+                  dimensions_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          dimensions_ = null;
+        }
+        return dimensionsBuilder_;
+      }
+
+      // required .ohla.rti.proto.FDD.FED fed = 5;
+      private net.sf.ohla.rti.proto.OHLAProtos.FDD.FED fed_ = net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.FED, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.FEDOrBuilder> fedBuilder_;
+      /**
+       * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+       */
+      public boolean hasFed() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED getFed() {
+        if (fedBuilder_ == null) {
+          return fed_;
+        } else {
+          return fedBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+       */
+      public Builder setFed(net.sf.ohla.rti.proto.OHLAProtos.FDD.FED value) {
+        if (fedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fed_ = value;
+          onChanged();
+        } else {
+          fedBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+       */
+      public Builder setFed(
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.Builder builderForValue) {
+        if (fedBuilder_ == null) {
+          fed_ = builderForValue.build();
+          onChanged();
+        } else {
+          fedBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+       */
+      public Builder mergeFed(net.sf.ohla.rti.proto.OHLAProtos.FDD.FED value) {
+        if (fedBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010) &&
+              fed_ != net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.getDefaultInstance()) {
+            fed_ =
+              net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.newBuilder(fed_).mergeFrom(value).buildPartial();
+          } else {
+            fed_ = value;
+          }
+          onChanged();
+        } else {
+          fedBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+       */
+      public Builder clearFed() {
+        if (fedBuilder_ == null) {
+          fed_ = net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.getDefaultInstance();
+          onChanged();
+        } else {
+          fedBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.Builder getFedBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getFedFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+       */
+      public net.sf.ohla.rti.proto.OHLAProtos.FDD.FEDOrBuilder getFedOrBuilder() {
+        if (fedBuilder_ != null) {
+          return fedBuilder_.getMessageOrBuilder();
+        } else {
+          return fed_;
+        }
+      }
+      /**
+       * <code>required .ohla.rti.proto.FDD.FED fed = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          net.sf.ohla.rti.proto.OHLAProtos.FDD.FED, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.FEDOrBuilder> 
+          getFedFieldBuilder() {
+        if (fedBuilder_ == null) {
+          fedBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              net.sf.ohla.rti.proto.OHLAProtos.FDD.FED, net.sf.ohla.rti.proto.OHLAProtos.FDD.FED.Builder, net.sf.ohla.rti.proto.OHLAProtos.FDD.FEDOrBuilder>(
+                  fed_,
+                  getParentForChildren(),
+                  isClean());
+          fed_ = null;
+        }
+        return fedBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ohla.rti.proto.FDD)
+    }
+
+    static {
+      defaultInstance = new FDD(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ohla.rti.proto.FDD)
+  }
+
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_MessageRetractionHandle_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_MessageRetractionHandle_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_ObjectInstanceHandle_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_ObjectInstanceHandle_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_RegionHandle_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_RegionHandle_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_DimensionRangeBound_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_DimensionRangeBound_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_PublishedObjectClass_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_PublishedObjectClass_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_RegionSubscription_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_RegionSubscription_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_AttributeSubscription_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_AttributeSubscription_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_ObjectClassSubscription_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_ObjectClassSubscription_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_InteractionClassSubscription_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_InteractionClassSubscription_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_SubscriptionManagerState_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_SubscriptionManagerState_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_FDD_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_FDD_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_FDD_Dimension_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_FDD_Dimension_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_FDD_ObjectClass_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_FDD_ObjectClass_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_FDD_ObjectClass_Attribute_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_FDD_ObjectClass_Attribute_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_FDD_InteractionClass_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_FDD_InteractionClass_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_FDD_InteractionClass_Parameter_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_FDD_InteractionClass_Parameter_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_FDD_FED_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_FDD_FED_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ohla_rti_proto_FDD_FED_RoutingSpace_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ohla_rti_proto_FDD_FED_RoutingSpace_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\020OHLAProtos.proto\022\016ohla.rti.proto\"R\n\027Me" +
+      "ssageRetractionHandle\022\026\n\016federateHandle\030" +
+      "\001 \002(\r\022\037\n\027messageRetractionHandle\030\002 \002(\004\"L" +
+      "\n\024ObjectInstanceHandle\022\026\n\016federateHandle" +
+      "\030\001 \002(\r\022\034\n\024objectInstanceHandle\030\002 \002(\004\"<\n\014" +
+      "RegionHandle\022\026\n\016federateHandle\030\001 \002(\r\022\024\n\014" +
+      "regionHandle\030\002 \002(\r\"V\n\023DimensionRangeBoun" +
+      "d\022\027\n\017dimensionHandle\030\001 \002(\r\022\022\n\nlowerBound" +
+      "\030\002 \002(\004\022\022\n\nupperBound\030\003 \002(\004\"K\n\024PublishedO" +
+      "bjectClass\022\031\n\021objectClassHandle\030\001 \002(\r\022\030\n",
+      "\020attributeHandles\030\002 \003(\r\"Y\n\022RegionSubscri" +
+      "ption\0222\n\014regionHandle\030\001 \002(\0132\034.ohla.rti.p" +
+      "roto.RegionHandle\022\017\n\007passive\030\002 \002(\010\"\274\001\n\025A" +
+      "ttributeSubscription\022\027\n\017attributeHandle\030" +
+      "\001 \002(\r\022\037\n\027defaultRegionSubscribed\030\002 \002(\010\022(" +
+      "\n defaultRegionSubscriptionPassive\030\003 \002(\010" +
+      "\022?\n\023regionSubscriptions\030\004 \003(\0132\".ohla.rti" +
+      ".proto.RegionSubscription\"z\n\027ObjectClass" +
+      "Subscription\022\031\n\021objectClassHandle\030\001 \002(\r\022" +
+      "D\n\025attributeSubscription\030\002 \003(\0132%.ohla.rt",
+      "i.proto.AttributeSubscription\"\312\001\n\034Intera" +
+      "ctionClassSubscription\022\036\n\026interactionCla" +
+      "ssHandle\030\001 \002(\r\022\037\n\027defaultRegionSubscribe" +
+      "d\030\002 \002(\010\022(\n defaultRegionSubscriptionPass" +
+      "ive\030\003 \002(\010\022?\n\023regionSubscriptions\030\004 \003(\0132\"" +
+      ".ohla.rti.proto.RegionSubscription\"\272\001\n\030S" +
+      "ubscriptionManagerState\022I\n\030objectClassSu" +
+      "bscriptions\030\001 \003(\0132\'.ohla.rti.proto.Objec" +
+      "tClassSubscription\022S\n\035interactionClassSu" +
+      "bscriptions\030\002 \003(\0132,.ohla.rti.proto.Inter",
+      "actionClassSubscription\"\256\t\n\003FDD\022\017\n\007sourc" +
+      "es\030\001 \003(\t\0226\n\robjectClasses\030\002 \003(\0132\037.ohla.r" +
+      "ti.proto.FDD.ObjectClass\022@\n\022interactionC" +
+      "lasses\030\003 \003(\0132$.ohla.rti.proto.FDD.Intera" +
+      "ctionClass\0221\n\ndimensions\030\004 \003(\0132\035.ohla.rt" +
+      "i.proto.FDD.Dimension\022$\n\003fed\030\005 \002(\0132\027.ohl" +
+      "a.rti.proto.FDD.FED\032O\n\tDimension\022\027\n\017dime" +
+      "nsionHandle\030\001 \002(\r\022\025\n\rdimensionName\030\002 \002(\t" +
+      "\022\022\n\nupperBound\030\003 \002(\004\032\310\002\n\013ObjectClass\022\031\n\021" +
+      "objectClassHandle\030\001 \002(\r\022\027\n\017objectClassNa",
+      "me\030\002 \002(\t\022\036\n\026superObjectClassHandle\030\003 \001(\r" +
+      "\022=\n\nattributes\030\004 \003(\0132).ohla.rti.proto.FD" +
+      "D.ObjectClass.Attribute\032\245\001\n\tAttribute\022\027\n" +
+      "\017attributeHandle\030\001 \002(\r\022\025\n\rattributeName\030" +
+      "\002 \002(\t\022\030\n\020dimensionHandles\030\003 \003(\r\022 \n\030trans" +
+      "portationTypeHandle\030\004 \002(\r\022,\n\torderType\030\005" +
+      " \002(\0162\031.ohla.rti.proto.OrderType\032\340\002\n\020Inte" +
+      "ractionClass\022\036\n\026interactionClassHandle\030\001" +
+      " \002(\r\022\034\n\024interactionClassName\030\002 \002(\t\022#\n\033su" +
+      "perInteractionClassHandle\030\003 \001(\r\022\030\n\020dimen",
+      "sionHandles\030\004 \003(\r\022 \n\030transportationTypeH" +
+      "andle\030\005 \002(\r\022,\n\torderType\030\006 \002(\0162\031.ohla.rt" +
+      "i.proto.OrderType\022B\n\nparameters\030\007 \003(\0132.." +
+      "ohla.rti.proto.FDD.InteractionClass.Para" +
+      "meter\032;\n\tParameter\022\027\n\017parameterHandle\030\001 " +
+      "\002(\r\022\025\n\rparameterName\030\002 \002(\t\032\303\001\n\003FED\022\017\n\007fe" +
+      "dName\030\001 \001(\t\022:\n\014routingSpace\030\002 \003(\0132$.ohla" +
+      ".rti.proto.FDD.FED.RoutingSpace\032o\n\014Routi" +
+      "ngSpace\022\032\n\022routingSpaceHandle\030\001 \002(\r\022\030\n\020r" +
+      "outingSpaceName\030\002 \002(\t\022\030\n\020dimensionHandle",
+      "s\030\003 \003(\r\022\017\n\007aliases\030\004 \003(\t*\263\001\n\022AdvanceRequ" +
+      "estType\022\010\n\004NONE\020\001\022\030\n\024TIME_ADVANCE_REQUES" +
+      "T\020\002\022\"\n\036TIME_ADVANCE_REQUEST_AVAILABLE\020\003\022" +
+      "\030\n\024NEXT_MESSAGE_REQUEST\020\004\022\"\n\036NEXT_MESSAG" +
+      "E_REQUEST_AVAILABLE\020\005\022\027\n\023FLUSH_QUEUE_REQ" +
+      "UEST\020\006*\'\n\tOrderType\022\013\n\007RECEIVE\020\001\022\r\n\tTIME" +
+      "STAMP\020\002*\307\001\n\014ResignAction\022%\n!UNCONDITIONA" +
+      "LLY_DIVEST_ATTRIBUTES\020\001\022\022\n\016DELETE_OBJECT" +
+      "S\020\002\022)\n%CANCEL_PENDING_OWNERSHIP_ACQUISIT" +
+      "IONS\020\003\022\036\n\032DELETE_OBJECTS_THEN_DIVEST\020\004\022\"",
+      "\n\036CANCEL_THEN_DELETE_THEN_DIVEST\020\005\022\r\n\tNO" +
+      "_ACTION\020\006B\027\n\025net.sf.ohla.rti.proto"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+      new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
+        public com.google.protobuf.ExtensionRegistry assignDescriptors(
+            com.google.protobuf.Descriptors.FileDescriptor root) {
+          descriptor = root;
+          internal_static_ohla_rti_proto_MessageRetractionHandle_descriptor =
+            getDescriptor().getMessageTypes().get(0);
+          internal_static_ohla_rti_proto_MessageRetractionHandle_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_MessageRetractionHandle_descriptor,
+              new java.lang.String[] { "FederateHandle", "MessageRetractionHandle", });
+          internal_static_ohla_rti_proto_ObjectInstanceHandle_descriptor =
+            getDescriptor().getMessageTypes().get(1);
+          internal_static_ohla_rti_proto_ObjectInstanceHandle_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_ObjectInstanceHandle_descriptor,
+              new java.lang.String[] { "FederateHandle", "ObjectInstanceHandle", });
+          internal_static_ohla_rti_proto_RegionHandle_descriptor =
+            getDescriptor().getMessageTypes().get(2);
+          internal_static_ohla_rti_proto_RegionHandle_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_RegionHandle_descriptor,
+              new java.lang.String[] { "FederateHandle", "RegionHandle", });
+          internal_static_ohla_rti_proto_DimensionRangeBound_descriptor =
+            getDescriptor().getMessageTypes().get(3);
+          internal_static_ohla_rti_proto_DimensionRangeBound_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_DimensionRangeBound_descriptor,
+              new java.lang.String[] { "DimensionHandle", "LowerBound", "UpperBound", });
+          internal_static_ohla_rti_proto_PublishedObjectClass_descriptor =
+            getDescriptor().getMessageTypes().get(4);
+          internal_static_ohla_rti_proto_PublishedObjectClass_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_PublishedObjectClass_descriptor,
+              new java.lang.String[] { "ObjectClassHandle", "AttributeHandles", });
+          internal_static_ohla_rti_proto_RegionSubscription_descriptor =
+            getDescriptor().getMessageTypes().get(5);
+          internal_static_ohla_rti_proto_RegionSubscription_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_RegionSubscription_descriptor,
+              new java.lang.String[] { "RegionHandle", "Passive", });
+          internal_static_ohla_rti_proto_AttributeSubscription_descriptor =
+            getDescriptor().getMessageTypes().get(6);
+          internal_static_ohla_rti_proto_AttributeSubscription_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_AttributeSubscription_descriptor,
+              new java.lang.String[] { "AttributeHandle", "DefaultRegionSubscribed", "DefaultRegionSubscriptionPassive", "RegionSubscriptions", });
+          internal_static_ohla_rti_proto_ObjectClassSubscription_descriptor =
+            getDescriptor().getMessageTypes().get(7);
+          internal_static_ohla_rti_proto_ObjectClassSubscription_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_ObjectClassSubscription_descriptor,
+              new java.lang.String[] { "ObjectClassHandle", "AttributeSubscription", });
+          internal_static_ohla_rti_proto_InteractionClassSubscription_descriptor =
+            getDescriptor().getMessageTypes().get(8);
+          internal_static_ohla_rti_proto_InteractionClassSubscription_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_InteractionClassSubscription_descriptor,
+              new java.lang.String[] { "InteractionClassHandle", "DefaultRegionSubscribed", "DefaultRegionSubscriptionPassive", "RegionSubscriptions", });
+          internal_static_ohla_rti_proto_SubscriptionManagerState_descriptor =
+            getDescriptor().getMessageTypes().get(9);
+          internal_static_ohla_rti_proto_SubscriptionManagerState_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_SubscriptionManagerState_descriptor,
+              new java.lang.String[] { "ObjectClassSubscriptions", "InteractionClassSubscriptions", });
+          internal_static_ohla_rti_proto_FDD_descriptor =
+            getDescriptor().getMessageTypes().get(10);
+          internal_static_ohla_rti_proto_FDD_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_FDD_descriptor,
+              new java.lang.String[] { "Sources", "ObjectClasses", "InteractionClasses", "Dimensions", "Fed", });
+          internal_static_ohla_rti_proto_FDD_Dimension_descriptor =
+            internal_static_ohla_rti_proto_FDD_descriptor.getNestedTypes().get(0);
+          internal_static_ohla_rti_proto_FDD_Dimension_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_FDD_Dimension_descriptor,
+              new java.lang.String[] { "DimensionHandle", "DimensionName", "UpperBound", });
+          internal_static_ohla_rti_proto_FDD_ObjectClass_descriptor =
+            internal_static_ohla_rti_proto_FDD_descriptor.getNestedTypes().get(1);
+          internal_static_ohla_rti_proto_FDD_ObjectClass_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_FDD_ObjectClass_descriptor,
+              new java.lang.String[] { "ObjectClassHandle", "ObjectClassName", "SuperObjectClassHandle", "Attributes", });
+          internal_static_ohla_rti_proto_FDD_ObjectClass_Attribute_descriptor =
+            internal_static_ohla_rti_proto_FDD_ObjectClass_descriptor.getNestedTypes().get(0);
+          internal_static_ohla_rti_proto_FDD_ObjectClass_Attribute_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_FDD_ObjectClass_Attribute_descriptor,
+              new java.lang.String[] { "AttributeHandle", "AttributeName", "DimensionHandles", "TransportationTypeHandle", "OrderType", });
+          internal_static_ohla_rti_proto_FDD_InteractionClass_descriptor =
+            internal_static_ohla_rti_proto_FDD_descriptor.getNestedTypes().get(2);
+          internal_static_ohla_rti_proto_FDD_InteractionClass_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_FDD_InteractionClass_descriptor,
+              new java.lang.String[] { "InteractionClassHandle", "InteractionClassName", "SuperInteractionClassHandle", "DimensionHandles", "TransportationTypeHandle", "OrderType", "Parameters", });
+          internal_static_ohla_rti_proto_FDD_InteractionClass_Parameter_descriptor =
+            internal_static_ohla_rti_proto_FDD_InteractionClass_descriptor.getNestedTypes().get(0);
+          internal_static_ohla_rti_proto_FDD_InteractionClass_Parameter_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_FDD_InteractionClass_Parameter_descriptor,
+              new java.lang.String[] { "ParameterHandle", "ParameterName", });
+          internal_static_ohla_rti_proto_FDD_FED_descriptor =
+            internal_static_ohla_rti_proto_FDD_descriptor.getNestedTypes().get(3);
+          internal_static_ohla_rti_proto_FDD_FED_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_FDD_FED_descriptor,
+              new java.lang.String[] { "FedName", "RoutingSpace", });
+          internal_static_ohla_rti_proto_FDD_FED_RoutingSpace_descriptor =
+            internal_static_ohla_rti_proto_FDD_FED_descriptor.getNestedTypes().get(0);
+          internal_static_ohla_rti_proto_FDD_FED_RoutingSpace_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ohla_rti_proto_FDD_FED_RoutingSpace_descriptor,
+              new java.lang.String[] { "RoutingSpaceHandle", "RoutingSpaceName", "DimensionHandles", "Aliases", });
+          return null;
+        }
+      };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        }, assigner);
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -16,11 +16,19 @@
 
 package net.sf.ohla.rti;
 
+import java.io.IOException;
+
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketAddress;
+import java.net.SocketException;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedMap;
@@ -32,21 +40,32 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import net.sf.ohla.rti.federation.FederationExecution;
 import net.sf.ohla.rti.hla.rti1516e.IEEE1516eFederationExecutionInformationSet;
+import net.sf.ohla.rti.i18n.ExceptionMessages;
+import net.sf.ohla.rti.i18n.I18n;
 import net.sf.ohla.rti.i18n.I18nLogger;
 import net.sf.ohla.rti.i18n.LogMessages;
 import net.sf.ohla.rti.messages.CreateFederationExecution;
 import net.sf.ohla.rti.messages.CreateFederationExecutionResponse;
+import net.sf.ohla.rti.messages.CoalescingWriteHandler;
+import net.sf.ohla.rti.messages.DatagramTransport;
 import net.sf.ohla.rti.messages.DestroyFederationExecution;
 import net.sf.ohla.rti.messages.DestroyFederationExecutionResponse;
 import net.sf.ohla.rti.messages.JoinFederationExecution;
 import net.sf.ohla.rti.messages.JoinFederationExecutionResponse;
 import net.sf.ohla.rti.messages.ListFederationExecutions;
+import net.sf.ohla.rti.messages.OpenSharedMemory;
+import net.sf.ohla.rti.messages.OpenSharedMemoryResponse;
+import net.sf.ohla.rti.messages.SharedMemoryChannelHandler;
 import net.sf.ohla.rti.messages.callbacks.ReportFederationExecutions;
 import net.sf.ohla.rti.messages.proto.ConnectedMessageProtos;
 import net.sf.ohla.rti.messages.proto.FederateMessageProtos;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
 
 import org.jboss.netty.bootstrap.ServerBootstrap;
+import org.jboss.netty.channel.ChannelException;
 import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.local.DefaultLocalServerChannelFactory;
+import org.jboss.netty.channel.local.LocalAddress;
 import org.jboss.netty.channel.socket.nio.NioServerSocketChannelFactory;
 
 import hla.rti1516e.FederationExecutionInformationSet;
@@ -66,8 +85,63 @@ public class RTI
 
   public static final int DEFAULT_PORT = 15000;
 
+  /**
+   * The number of cores each federation execution dispatches messages on, unless overridden for the federation
+   * execution by {@link #OHLA_RTI_FEDERATION_EXECUTION_CORES_PROPERTY_FORMAT}. Defaults to
+   * {@link #DEFAULT_FEDERATION_EXECUTION_CORES}, or fewer if there are fewer available processors.
+   */
+  public static final String OHLA_RTI_FEDERATION_EXECUTION_CORES_PROPERTY = "ohla.rti.federationExecution.cores";
+
+  /**
+   * The number of cores the named federation execution dispatches messages on.
+   */
+  public static final String OHLA_RTI_FEDERATION_EXECUTION_CORES_PROPERTY_FORMAT =
+    "ohla.rti.federationExecution.%s.cores";
+
+  /**
+   * Every federation execution has its own threads, so an RTI hosting many federation executions would have many times
+   * the available processors in threads if each defaulted to all of them.
+   */
+  public static final int DEFAULT_FEDERATION_EXECUTION_CORES = 2;
+
+  /**
+   * The port {@code HLAbestEffort} messages are received on as datagrams, defaults to {@link #DEFAULT_PORT}. A negative
+   * port sends all messages reliably.
+   */
+  public static final String OHLA_RTI_DATAGRAM_PORT_PROPERTY = "ohla.rti.datagram.port";
+
+  /**
+   * The name of the network interface multicast groups are sent to, defaults to the loopback interface.
+   */
+  public static final String OHLA_RTI_DATAGRAM_INTERFACE_PROPERTY = "ohla.rti.datagram.interface";
+
+  /**
+   * The largest datagram sent, defaults to {@link DatagramTransport#DEFAULT_MAX_DATAGRAM_SIZE}.
+   */
+  public static final String OHLA_RTI_DATAGRAM_MAX_SIZE_PROPERTY = "ohla.rti.datagram.maxSize";
+
+  /**
+   * Followed by the name of an object or interaction class, the multicast group ({@code address:port})
+   * {@code HLAbestEffort} messages of the class and its subclasses are sent to, e.g.
+   * {@code ohla.rti.datagram.group.Vehicle=239.255.0.1:15001}.
+   */
+  public static final String OHLA_RTI_DATAGRAM_GROUP_PROPERTY_PREFIX = "ohla.rti.datagram.group.";
+
+  /**
+   * The only directory shared memory is opened in, federates connecting through shared memory must create it there.
+   * Defaults to {@link SharedMemoryChannelHandler#getDefaultDirectory()}, where federates create it by default.
+   */
+  public static final String OHLA_RTI_SHARED_MEMORY_DIRECTORY_PROPERTY = "ohla.rti.sharedMemory.directory";
+
+  /**
+   * The address federates in the same JVM connect to the embedded RTI on.
+   */
+  public static final LocalAddress EMBEDDED_ADDRESS = new LocalAddress(NAME);
+
   private static final I18nLogger logger = I18nLogger.getLogger(RTI.class);
 
+  private static RTI embeddedRTI;
+
   private final Map<String, ServerBootstrap> serverBootstraps = new HashMap<>();
 
   private final Lock federationsLock = new ReentrantLock(true);
@@ -75,7 +149,14 @@ public class RTI
 
   private final Path savesDirectory;
 
+  private final DatagramTransport datagramTransport;
+
   public RTI()
+  {
+    this(false);
+  }
+
+  private RTI(boolean embedded)
   {
     // TODO: read from configuration file
 
@@ -83,13 +164,29 @@ public class RTI
 
     Executor executor = Executors.newCachedThreadPool();
 
-    if (serverBootstraps.isEmpty())
+    if (embedded)
+    {
+      // federates in the same JVM are passed messages without them being encoded
+      //
+      ServerBootstrap serverBootstrap = new ServerBootstrap(new DefaultLocalServerChannelFactory());
+
+      serverBootstrap.setOption("localAddress", EMBEDDED_ADDRESS);
+
+      serverBootstrap.setPipelineFactory(new RTIChannelPipelineFactory(executor, this, true));
+
+      serverBootstraps.put("embedded", serverBootstrap);
+    }
+    else if (serverBootstraps.isEmpty())
     {
       ServerBootstrap serverBootstrap = new ServerBootstrap(
         new NioServerSocketChannelFactory(Executors.newCachedThreadPool(), Executors.newCachedThreadPool()));
 
       serverBootstrap.setOption("localAddress", new InetSocketAddress(DEFAULT_PORT));
 
+      // writes are already coalesced, do not let small messages wait on an acknowledgement
+      //
+      serverBootstrap.setOption("child.tcpNoDelay", true);
+
       serverBootstrap.setPipelineFactory(new RTIChannelPipelineFactory(executor, this));
 
       serverBootstraps.put("default", serverBootstrap);
@@ -99,6 +196,23 @@ public class RTI
     {
       serverBootstrap.bind();
     }
+
+    datagramTransport = embedded ? null : createDatagramTransport();
+  }
+
+  /**
+   * Returns the RTI embedded in this JVM, starting it if it is not already running. Federates in the same JVM connect
+   * to it on {@link #EMBEDDED_ADDRESS} and share its federation executions without any messages being encoded.
+   *
+   * @return the RTI embedded in this JVM
+   */
+  public static synchronized RTI getEmbeddedRTI()
+  {
+    if (embeddedRTI == null)
+    {
+      embeddedRTI = new RTI(true);
+    }
+    return embeddedRTI;
   }
 
   public void createFederationExecution(
@@ -140,7 +254,8 @@ public class RTI
         {
           federationExecutions.put(
             federationExecutionName, new FederationExecution(
-            federationExecutionName, createFederationExecution.getFDD(), logicalTimeFactory, savesDirectory));
+            federationExecutionName, createFederationExecution.getFDD(), logicalTimeFactory, savesDirectory,
+            getFederationExecutionCores(federationExecutionName), datagramTransport));
 
           response = new CreateFederationExecutionResponse(createFederationExecution.getRequestId());
         }
@@ -241,6 +356,213 @@ public class RTI
     }
   }
 
+  /**
+   * Opens the shared memory a federate created, the connection stays on the socket if it cannot be opened. Shared
+   * memory is only opened for federates connected over the loopback interface, and only if it is a file directly in
+   * the {@link #OHLA_RTI_SHARED_MEMORY_DIRECTORY_PROPERTY shared memory directory} once every link is followed, so a
+   * peer cannot have the RTI map any other file.
+   */
+  public void openSharedMemory(ChannelHandlerContext context, OpenSharedMemory openSharedMemory)
+  {
+    OpenSharedMemoryResponse response;
+    try
+    {
+      SocketAddress remoteAddress = context.getChannel().getRemoteAddress();
+      if (!(remoteAddress instanceof InetSocketAddress) || ((InetSocketAddress) remoteAddress).isUnresolved() ||
+          !((InetSocketAddress) remoteAddress).getAddress().isLoopbackAddress())
+      {
+        throw new IOException(I18n.getMessage(ExceptionMessages.SHARED_MEMORY_NOT_LOCAL, remoteAddress));
+      }
+
+      Path directory = getSharedMemoryDirectory().toRealPath();
+      Path path = Paths.get(openSharedMemory.getPath()).toRealPath();
+      if (!directory.equals(path.getParent()) || !Files.isRegularFile(path))
+      {
+        throw new IOException(I18n.getMessage(
+          ExceptionMessages.SHARED_MEMORY_OUTSIDE_DIRECTORY, openSharedMemory.getPath(), directory));
+      }
+
+      SharedMemoryChannelHandler sharedMemoryChannelHandler =
+        SharedMemoryChannelHandler.open(path, openSharedMemory.getToken());
+
+      // the rings already batch whatever is written while the peer is busy, writes are copied in the writer's thread
+      //
+      context.getPipeline().replace(
+        CoalescingWriteHandler.NAME, SharedMemoryChannelHandler.NAME, sharedMemoryChannelHandler);
+
+      logger.debug(LogMessages.SHARED_MEMORY_OPENED, path, context.getChannel().getRemoteAddress());
+
+      response = new OpenSharedMemoryResponse(openSharedMemory.getRequestId());
+    }
+    catch (IOException | RuntimeException e)
+    {
+      logger.warn(LogMessages.UNABLE_TO_OPEN_SHARED_MEMORY, e, openSharedMemory.getPath());
+
+      response = new OpenSharedMemoryResponse(
+        openSharedMemory.getRequestId(),
+        ConnectedMessageProtos.OpenSharedMemoryResponse.Failure.Cause.UNABLE_TO_OPEN_SHARED_MEMORY);
+    }
+
+    context.getChannel().write(response);
+  }
+
+  private Path getSharedMemoryDirectory()
+  {
+    String directory = System.getProperty(OHLA_RTI_SHARED_MEMORY_DIRECTORY_PROPERTY);
+    return directory == null ? SharedMemoryChannelHandler.getDefaultDirectory() : Paths.get(directory);
+  }
+
+  private int getFederationExecutionCores(String federationExecutionName)
+  {
+    int cores = getCores(String.format(OHLA_RTI_FEDERATION_EXECUTION_CORES_PROPERTY_FORMAT, federationExecutionName));
+    if (cores <= 0)
+    {
+      cores = getCores(OHLA_RTI_FEDERATION_EXECUTION_CORES_PROPERTY);
+      if (cores <= 0)
+      {
+        cores = Math.min(DEFAULT_FEDERATION_EXECUTION_CORES, Runtime.getRuntime().availableProcessors());
+      }
+    }
+    return cores;
+  }
+
+  private int getCores(String property)
+  {
+    int cores;
+
+    String value = System.getProperty(property);
+    if (value == null)
+    {
+      cores = 0;
+    }
+    else
+    {
+      try
+      {
+        cores = Integer.parseInt(value.trim());
+      }
+      catch (NumberFormatException nfe)
+      {
+        cores = 0;
+      }
+
+      if (cores <= 0)
+      {
+        logger.warn(LogMessages.INVALID_FEDERATION_EXECUTION_CORES, property, value);
+      }
+    }
+    return cores;
+  }
+
+  private DatagramTransport createDatagramTransport()
+  {
+    DatagramTransport datagramTransport;
+
+    int port = getIntProperty(OHLA_RTI_DATAGRAM_PORT_PROPERTY, DEFAULT_PORT);
+    if (port < 0)
+    {
+      datagramTransport = null;
+    }
+    else
+    {
+      NetworkInterface networkInterface = getDatagramNetworkInterface();
+      InetSocketAddress localAddress = new InetSocketAddress(port);
+      try
+      {
+        datagramTransport = new DatagramTransport(
+          localAddress, networkInterface,
+          getIntProperty(OHLA_RTI_DATAGRAM_MAX_SIZE_PROPERTY, DatagramTransport.DEFAULT_MAX_DATAGRAM_SIZE),
+          EnumSet.of(MessageProtos.MessageType.UPDATE_ATTRIBUTE_VALUES, MessageProtos.MessageType.SEND_INTERACTION));
+
+        for (String property : System.getProperties().stringPropertyNames())
+        {
+          if (property.startsWith(OHLA_RTI_DATAGRAM_GROUP_PROPERTY_PREFIX))
+          {
+            String value = System.getProperty(property);
+
+            InetSocketAddress group = parseGroup(value);
+            if (group == null)
+            {
+              logger.warn(LogMessages.INVALID_DATAGRAM_PROPERTY, property, value);
+            }
+            else
+            {
+              datagramTransport.setGroup(property.substring(OHLA_RTI_DATAGRAM_GROUP_PROPERTY_PREFIX.length()), group);
+            }
+          }
+        }
+      }
+      catch (ChannelException ce)
+      {
+        logger.warn(LogMessages.UNABLE_TO_BIND_DATAGRAM_TRANSPORT, ce, localAddress);
+
+        datagramTransport = null;
+      }
+    }
+    return datagramTransport;
+  }
+
+  private NetworkInterface getDatagramNetworkInterface()
+  {
+    NetworkInterface networkInterface;
+
+    String name = System.getProperty(OHLA_RTI_DATAGRAM_INTERFACE_PROPERTY);
+    try
+    {
+      networkInterface = name == null ? null : NetworkInterface.getByName(name.trim());
+      if (networkInterface == null)
+      {
+        if (name != null)
+        {
+          logger.warn(LogMessages.INVALID_DATAGRAM_PROPERTY, OHLA_RTI_DATAGRAM_INTERFACE_PROPERTY, name);
+        }
+
+        networkInterface = NetworkInterface.getByInetAddress(InetAddress.getLoopbackAddress());
+      }
+    }
+    catch (SocketException se)
+    {
+      networkInterface = null;
+    }
+    return networkInterface;
+  }
+
+  private int getIntProperty(String property, int defaultValue)
+  {
+    int value = defaultValue;
+
+    String s = System.getProperty(property);
+    if (s != null)
+    {
+      try
+      {
+        value = Integer.parseInt(s.trim());
+      }
+      catch (NumberFormatException nfe)
+      {
+        logger.warn(LogMessages.INVALID_DATAGRAM_PROPERTY, property, s);
+      }
+    }
+    return value;
+  }
+
+  private InetSocketAddress parseGroup(String value)
+  {
+    InetSocketAddress group;
+
+    int colon = value.lastIndexOf(':');
+    try
+    {
+      group = colon == -1 ? null : new InetSocketAddress(
+        InetAddress.getByName(value.substring(0, colon).trim()), Integer.parseInt(value.substring(colon + 1).trim()));
+    }
+    catch (IOException | IllegalArgumentException e)
+    {
+      group = null;
+    }
+    return group == null || !group.getAddress().isMulticastAddress() ? null : group;
+  }
+
   private boolean testLogicalTimeFactory(LogicalTimeFactory logicalTimeFactory)
   {
     boolean validated;
@@ -21,6 +21,7 @@ import net.sf.ohla.rti.messages.DestroyFederationExecution;
 import net.sf.ohla.rti.messages.JoinFederationExecution;
 import net.sf.ohla.rti.messages.ListFederationExecutions;
 import net.sf.ohla.rti.messages.Message;
+import net.sf.ohla.rti.messages.OpenSharedMemory;
 
 import org.jboss.netty.channel.ChannelEvent;
 import org.jboss.netty.channel.ChannelHandlerContext;
@@ -60,6 +61,9 @@ public class RTIChannelHandler
         case LIST_FEDERATION_EXECUTIONS:
           rti.listFederationExecutions(context, (ListFederationExecutions) message);
           break;
+        case OPEN_SHARED_MEMORY:
+          rti.openSharedMemory(context, (OpenSharedMemory) message);
+          break;
         default:
           // TODO: error?
       }
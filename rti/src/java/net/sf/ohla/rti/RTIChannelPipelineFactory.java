@@ -18,9 +18,11 @@ package net.sf.ohla.rti;
 
 import java.util.concurrent.Executor;
 
+import net.sf.ohla.rti.messages.CoalescingWriteHandler;
 import net.sf.ohla.rti.messages.MessageChannelHandler;
 import net.sf.ohla.rti.messages.MessageDecoder;
 import net.sf.ohla.rti.messages.MessageEncoder;
+import net.sf.ohla.rti.messages.OrderedWriteHandler;
 
 import org.jboss.netty.channel.ChannelPipeline;
 import org.jboss.netty.channel.ChannelPipelineFactory;
@@ -33,10 +35,21 @@ public class RTIChannelPipelineFactory
 
   private final RTI rti;
 
+  /**
+   * Whether the channels are to federates in the same JVM, messages are passed to them without being encoded.
+   */
+  private final boolean embedded;
+
   public RTIChannelPipelineFactory(Executor executor, RTI rti)
+  {
+    this(executor, rti, false);
+  }
+
+  public RTIChannelPipelineFactory(Executor executor, RTI rti, boolean embedded)
   {
     this.executor = executor;
     this.rti = rti;
+    this.embedded = embedded;
   }
 
   public ChannelPipeline getPipeline()
@@ -44,9 +57,17 @@ public class RTIChannelPipelineFactory
   {
     ChannelPipeline pipeline = Channels.pipeline();
 
-    pipeline.addLast(MessageEncoder.NAME, new MessageEncoder());
-    pipeline.addLast(MessageDecoder.NAME, new MessageDecoder());
-    pipeline.addLast(MessageChannelHandler.NAME, new MessageChannelHandler(executor));
+    if (embedded)
+    {
+      pipeline.addLast(OrderedWriteHandler.NAME, new OrderedWriteHandler());
+    }
+    else
+    {
+      pipeline.addLast(CoalescingWriteHandler.NAME, new CoalescingWriteHandler());
+      pipeline.addLast(MessageEncoder.NAME, new MessageEncoder());
+      pipeline.addLast(MessageDecoder.NAME, new MessageDecoder());
+    }
+    pipeline.addLast(MessageChannelHandler.NAME, new MessageChannelHandler(executor, false));
     pipeline.addLast(RTIChannelHandler.NAME, new RTIChannelHandler(rti));
 
     return pipeline;
@@ -16,14 +16,13 @@
 
 package net.sf.ohla.rti.federate;
 
-import java.util.LinkedList;
-import java.util.Queue;
 import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 import net.sf.ohla.rti.i18n.I18nLogger;
 import net.sf.ohla.rti.i18n.LogMessages;
@@ -40,15 +39,30 @@ public class CallbackManager
   /**
    * Ensures only one callback is in progress at a time.
    */
-  private final Semaphore evokeSemaphore = new Semaphore(1, true);
+  private final Semaphore evokeSemaphore = new Semaphore(1);
 
-  private final Lock callbacksLock = new ReentrantLock(true);
-  private final Condition noCallbacks = callbacksLock.newCondition();
+  /**
+   * Callbacks are added by the threads receiving messages from the RTI and taken by the one thread evoking callbacks,
+   * neither side ever blocks the other.
+   */
+  private final Queue<QueuedCallback> callbacks = new ConcurrentLinkedQueue<>();
+  private final Queue<QueuedCallback> heldCallbacks = new ConcurrentLinkedQueue<>();
+
+  /**
+   * The thread waiting for a callback to be added, if any.
+   */
+  private volatile Thread waitingThread;
 
-  private Queue<Callback> callbacks = new LinkedList<Callback>();
-  private Queue<Callback> heldCallbacks = new LinkedList<Callback>();
+  protected volatile boolean enabled = true;
 
-  protected boolean enabled = true;
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+  // only updated by the thread evoking callbacks
+  //
+  private volatile long callbacksEvoked;
+  private volatile long totalCallbackLatency;
+  private volatile long maxCallbackLatency;
 
   public CallbackManager(FederateAmbassador federateAmbassador)
   {
@@ -57,68 +71,48 @@ public class CallbackManager
 
   public void reset()
   {
-    callbacksLock.lock();
-    try
+    // need to clear out any old federation execution callbacks, only Connection Lost and
+    // List Federation Executions can stay
+
+    // neither of the above callbacks can be held
+    //
+    heldCallbacks.clear();
+
+    for (Iterator<QueuedCallback> i = callbacks.iterator(); i.hasNext();)
     {
-      // need to clear out any old federation execution callbacks, only Connection Lost and
-      // List Federation Executions can stay
+      QueuedCallback queuedCallback = i.next();
 
-      // neither of the above callbacks can be held
+      // TODO: add check for Connection Lost
       //
-      heldCallbacks.clear();
-
-      for (Iterator<Callback> i = callbacks.iterator(); i.hasNext();)
+      if (!ListFederationExecutions.class.isInstance(queuedCallback.callback) && callbacks.remove(queuedCallback))
       {
-        Callback callback = i.next();
-
-        // TODO: add check for Connection Lost
-        //
-        if (!ListFederationExecutions.class.isInstance(callback))
-        {
-          i.remove();
-        }
+        queueDepth.decrementAndGet();
       }
     }
-    finally
-    {
-      callbacksLock.unlock();
-    }
   }
 
   public void add(Callback callback, boolean hold)
   {
-    callbacksLock.lock();
-    try
+    if (hold)
     {
-      if (hold)
-      {
-        heldCallbacks.offer(callback);
-      }
-      else
-      {
-        callbacks.offer(callback);
-        noCallbacks.signal();
-      }
+      heldCallbacks.offer(new QueuedCallback(callback));
     }
-    finally
+    else
     {
-      callbacksLock.unlock();
+      offer(new QueuedCallback(callback));
     }
   }
 
   public void releaseHeld()
   {
-    callbacksLock.lock();
-    try
+    for (QueuedCallback queuedCallback = heldCallbacks.poll(); queuedCallback != null;
+         queuedCallback = heldCallbacks.poll())
     {
-      callbacks.addAll(heldCallbacks);
-      noCallbacks.signal();
+      // held callbacks are only late from the moment they are released
+      //
+      queuedCallback.queued = System.nanoTime();
 
-      heldCallbacks.clear();
-    }
-    finally
-    {
-      callbacksLock.unlock();
+      offer(queuedCallback);
     }
   }
 
@@ -147,6 +141,10 @@ public class CallbackManager
     }
     catch (InterruptedException ie)
     {
+      // restore the interrupt for the caller
+      //
+      Thread.currentThread().interrupt();
+
       areCallbacksPending = areCallbacksPending();
     }
 
@@ -167,7 +165,7 @@ public class CallbackManager
         try
         {
           areCallbacksPending = evokeMultipleCallbacks(
-            nanoTime + minNanosTimeout, nanoTime + maxNanosTimeout, nanoTime);
+            nanoTime + minNanosTimeout, nanoTime + maxNanosTimeout, System.nanoTime());
         }
         finally
         {
@@ -181,6 +179,10 @@ public class CallbackManager
     }
     catch (InterruptedException ie)
     {
+      // restore the interrupt for the caller
+      //
+      Thread.currentThread().interrupt();
+
       areCallbacksPending = areCallbacksPending();
     }
 
@@ -189,120 +191,151 @@ public class CallbackManager
 
   public void enableCallbacks()
   {
-    callbacksLock.lock();
-    try
-    {
-      enabled = true;
-    }
-    finally
-    {
-      callbacksLock.unlock();
-    }
+    enabled = true;
+
+    // callbacks may have been added while disabled
+    //
+    LockSupport.unpark(waitingThread);
   }
 
   public void disableCallbacks()
   {
-    callbacksLock.lock();
-    try
-    {
-      enabled = false;
-    }
-    finally
-    {
-      callbacksLock.unlock();
-    }
+    enabled = false;
   }
 
   public boolean areCallbacksPending()
   {
-    callbacksLock.lock();
-    try
-    {
-      return !callbacks.isEmpty();
-    }
-    finally
-    {
-      callbacksLock.unlock();
-    }
+    return !callbacks.isEmpty();
   }
 
-  protected boolean evokeCallback(long nanoTimeout)
+  public CallbackMetrics getMetrics()
   {
-    Callback callback = null;
+    long callbacksEvoked = this.callbacksEvoked;
+    long averageCallbackLatency = callbacksEvoked == 0L ? 0L : totalCallbackLatency / callbacksEvoked;
+    return new CallbackMetrics(
+      queueDepth.get(), maxQueueDepth.get(), callbacksEvoked, averageCallbackLatency, maxCallbackLatency);
+  }
 
-    callbacksLock.lock();
-    try
-    {
-      while (nanoTimeout > 0 && (callback = nextCallback()) == null)
-      {
-        nanoTimeout = noCallbacks.awaitNanos(nanoTimeout);
-      }
-    }
-    catch (InterruptedException ie)
-    {
-      // wait interrupted
-    }
-    finally
+  protected boolean evokeCallback(long nanoTimeout)
+  {
+    QueuedCallback queuedCallback = nextCallback(nanoTimeout);
+    if (queuedCallback != null)
     {
-      callbacksLock.unlock();
+      evoke(queuedCallback);
     }
 
-    if (callback != null)
+    return areCallbacksPending();
+  }
+
+  protected boolean evokeMultipleCallbacks(long minNanoExpiration, long maxNanoExpiration, long nanoTime)
+  {
+    // evoke callbacks as they are added until the minimum time is up and then until there are none left or the
+    // maximum time is up
+    //
+    for (QueuedCallback queuedCallback = nextCallback(minNanoExpiration - nanoTime); queuedCallback != null;
+         queuedCallback = (nanoTime = System.nanoTime()) < maxNanoExpiration ?
+           nextCallback(minNanoExpiration - nanoTime) : null)
     {
-      try
-      {
-        callback.execute(federateAmbassador);
-      }
-      catch (Throwable t)
-      {
-        log.warn(LogMessages.ERROR_INVOKING_CALLBACK, t, callback);
-      }
+      evoke(queuedCallback);
     }
 
     return areCallbacksPending();
   }
 
-  protected boolean evokeMultipleCallbacks(long minNanoExpiration, long maxNanoExpiration, long nanoTime)
+  protected boolean evokeCallback()
   {
-    while ((nanoTime < minNanoExpiration && evokeCallback(minNanoExpiration - nanoTime)) ||
-           (nanoTime < maxNanoExpiration && evokeCallback()))
+    QueuedCallback queuedCallback = nextCallback();
+    if (queuedCallback != null)
     {
-      nanoTime = System.nanoTime();
+      evoke(queuedCallback);
     }
 
     return areCallbacksPending();
   }
 
-  protected boolean evokeCallback()
+  private void offer(QueuedCallback queuedCallback)
   {
-    Callback callback;
-    callbacksLock.lock();
-    try
+    callbacks.offer(queuedCallback);
+
+    int queueDepth = this.queueDepth.incrementAndGet();
+    for (int maxQueueDepth = this.maxQueueDepth.get();
+         queueDepth > maxQueueDepth && !this.maxQueueDepth.compareAndSet(maxQueueDepth, queueDepth);
+         maxQueueDepth = this.maxQueueDepth.get())
     {
-      callback = nextCallback();
     }
-    finally
+
+    LockSupport.unpark(waitingThread);
+  }
+
+  private QueuedCallback nextCallback()
+  {
+    QueuedCallback queuedCallback = enabled ? callbacks.poll() : null;
+    if (queuedCallback != null)
     {
-      callbacksLock.unlock();
+      queueDepth.decrementAndGet();
     }
+    return queuedCallback;
+  }
 
-    if (callback != null)
+  private QueuedCallback nextCallback(long nanoTimeout)
+  {
+    QueuedCallback queuedCallback = nextCallback();
+    if (queuedCallback == null && nanoTimeout > 0L)
     {
+      long nanoExpiration = System.nanoTime() + nanoTimeout;
+
+      waitingThread = Thread.currentThread();
       try
       {
-        callback.execute(federateAmbassador);
+        // check again after advertising the waiting thread so an added callback cannot be missed, an interrupt ends
+        // the wait but is left for the caller to see
+        //
+        while ((queuedCallback = nextCallback()) == null && nanoTimeout > 0L &&
+               !Thread.currentThread().isInterrupted())
+        {
+          LockSupport.parkNanos(this, nanoTimeout);
+
+          nanoTimeout = nanoExpiration - System.nanoTime();
+        }
       }
-      catch (Throwable t)
+      finally
       {
-        log.warn(LogMessages.ERROR_INVOKING_CALLBACK, t, callback);
+        waitingThread = null;
       }
     }
+    return queuedCallback;
+  }
 
-    return areCallbacksPending();
+  private void evoke(QueuedCallback queuedCallback)
+  {
+    long latency = System.nanoTime() - queuedCallback.queued;
+
+    totalCallbackLatency += latency;
+    if (latency > maxCallbackLatency)
+    {
+      maxCallbackLatency = latency;
+    }
+    callbacksEvoked++;
+
+    try
+    {
+      queuedCallback.callback.execute(federateAmbassador);
+    }
+    catch (Throwable t)
+    {
+      log.warn(LogMessages.ERROR_INVOKING_CALLBACK, t, queuedCallback.callback);
+    }
   }
 
-  private Callback nextCallback()
+  private static class QueuedCallback
   {
-    return enabled ? callbacks.poll() : null;
+    private final Callback callback;
+
+    private long queued = System.nanoTime();
+
+    private QueuedCallback(Callback callback)
+    {
+      this.callback = callback;
+    }
   }
 }
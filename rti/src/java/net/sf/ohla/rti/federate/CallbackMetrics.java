@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.federate;
+
+/**
+ * A snapshot of the callback queue of a federate. Latencies are the times, in nanoseconds, callbacks waited between
+ * being queued, or released if held, and being evoked.
+ */
+public class CallbackMetrics
+{
+  private final int queueDepth;
+  private final int maxQueueDepth;
+  private final long callbacksEvoked;
+  private final long averageCallbackLatency;
+  private final long maxCallbackLatency;
+
+  public CallbackMetrics(
+    int queueDepth, int maxQueueDepth, long callbacksEvoked, long averageCallbackLatency, long maxCallbackLatency)
+  {
+    this.queueDepth = queueDepth;
+    this.maxQueueDepth = maxQueueDepth;
+    this.callbacksEvoked = callbacksEvoked;
+    this.averageCallbackLatency = averageCallbackLatency;
+    this.maxCallbackLatency = maxCallbackLatency;
+  }
+
+  /**
+   * Returns the number of callbacks waiting to be evoked, not counting held callbacks.
+   */
+  public int getQueueDepth()
+  {
+    return queueDepth;
+  }
+
+  public int getMaxQueueDepth()
+  {
+    return maxQueueDepth;
+  }
+
+  public long getCallbacksEvoked()
+  {
+    return callbacksEvoked;
+  }
+
+  public long getAverageCallbackLatency()
+  {
+    return averageCallbackLatency;
+  }
+
+  public long getMaxCallbackLatency()
+  {
+    return maxCallbackLatency;
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format("queueDepth: %d, maxQueueDepth: %d, callbacksEvoked: %d, averageCallbackLatency: %dns, " +
+                         "maxCallbackLatency: %dns", queueDepth, maxQueueDepth, callbacksEvoked,
+                         averageCallbackLatency, maxCallbackLatency);
+  }
+}
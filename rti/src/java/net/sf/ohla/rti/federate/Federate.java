@@ -18,6 +18,8 @@ package net.sf.ohla.rti.federate;
 
 import java.io.IOException;
 
+import java.net.InetSocketAddress;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +50,7 @@ import net.sf.ohla.rti.hla.rti1516e.IEEE1516eParameterHandleFactory;
 import net.sf.ohla.rti.hla.rti1516e.IEEE1516eParameterHandleValueMapFactory;
 import net.sf.ohla.rti.hla.rti1516e.IEEE1516eRegionHandleSetFactory;
 import net.sf.ohla.rti.hla.rti1516e.IEEE1516eTransportationTypeHandleFactory;
+import net.sf.ohla.rti.hla.rti1516e.OptimisticFederateAmbassador;
 import net.sf.ohla.rti.i18n.ExceptionMessages;
 import net.sf.ohla.rti.i18n.I18n;
 import net.sf.ohla.rti.i18n.I18nLogger;
@@ -56,6 +59,7 @@ import net.sf.ohla.rti.messages.AbortFederationRestore;
 import net.sf.ohla.rti.messages.AbortFederationRestoreResponse;
 import net.sf.ohla.rti.messages.AbortFederationSave;
 import net.sf.ohla.rti.messages.AbortFederationSaveResponse;
+import net.sf.ohla.rti.messages.DatagramTransport;
 import net.sf.ohla.rti.messages.FederateStateFrame;
 import net.sf.ohla.rti.messages.GetFederateHandle;
 import net.sf.ohla.rti.messages.GetFederateHandleResponse;
@@ -63,6 +67,8 @@ import net.sf.ohla.rti.messages.GetFederateName;
 import net.sf.ohla.rti.messages.GetFederateNameResponse;
 import net.sf.ohla.rti.messages.JoinFederationExecution;
 import net.sf.ohla.rti.messages.JoinFederationExecutionResponse;
+import net.sf.ohla.rti.messages.LOTSUpdated;
+import net.sf.ohla.rti.messages.Message;
 import net.sf.ohla.rti.messages.QueryFederationRestoreStatus;
 import net.sf.ohla.rti.messages.QueryFederationSaveStatus;
 import net.sf.ohla.rti.messages.QueryInteractionTransportationType;
@@ -83,6 +89,7 @@ import net.sf.ohla.rti.messages.callbacks.ReceiveInteraction;
 import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValues;
 import net.sf.ohla.rti.messages.callbacks.RemoveObjectInstance;
 import net.sf.ohla.rti.messages.callbacks.ReportInteractionTransportationType;
+import net.sf.ohla.rti.messages.callbacks.RequestRetraction;
 import net.sf.ohla.rti.proto.FederationExecutionSaveProtos;
 
 import org.jboss.netty.channel.Channel;
@@ -235,6 +242,16 @@ public class Federate
    */
   private final Channel rtiChannel;
 
+  /**
+   * Sends and receives {@code HLAbestEffort} messages as datagrams, {@code null} if they are sent reliably.
+   */
+  private final DatagramTransport datagramTransport;
+
+  /**
+   * The address the RTI receives datagrams on, {@code null} if it does not.
+   */
+  private InetSocketAddress rtiDatagramAddress;
+
   private final HLA13RTIambassador hla13RTIambassador;
 
   private volatile FDD fdd;
@@ -306,7 +323,7 @@ public class Federate
 
   public Federate(String federateName, String federateType, String federationExecutionName,
                   List<FDD> additionalFDDs, FederateAmbassador federateAmbassador, CallbackManager callbackManager,
-                  Channel rtiChannel, HLA13RTIambassador hla13RTIambassador)
+                  Channel rtiChannel, DatagramTransport datagramTransport, HLA13RTIambassador hla13RTIambassador)
     throws CouldNotCreateLogicalTimeFactory, FederateNameAlreadyInUse, FederationExecutionDoesNotExist, InconsistentFDD,
            SaveInProgress, RestoreInProgress, RTIinternalError
   {
@@ -315,13 +332,15 @@ public class Federate
     this.federateAmbassador = federateAmbassador;
     this.callbackManager = callbackManager;
     this.rtiChannel = rtiChannel;
+    this.datagramTransport = datagramTransport;
     this.hla13RTIambassador = hla13RTIambassador;
 
     rtiChannel.getPipeline().addBefore(
       CallbackChannelHandler.NAME, FederateChannelHandler.NAME, new FederateChannelHandler(this));
 
     JoinFederationExecution joinFederationExecution = new JoinFederationExecution(
-      federateName, federateType, federationExecutionName, additionalFDDs);
+      federateName, federateType, federationExecutionName, additionalFDDs,
+      datagramTransport == null ? 0 : datagramTransport.getLocalAddress().getPort());
 
     rtiChannel.write(joinFederationExecution);
 
@@ -375,7 +394,22 @@ public class Federate
         }
         else
         {
-          timeManager = new FederateTimeManager(this, logicalTimeFactory);
+          timeManager = new FederateTimeManager(
+            this, logicalTimeFactory, response.isDistributedTimeManagement(),
+            response.isOptimisticTimeManagement() && federateAmbassador instanceof OptimisticFederateAmbassador ?
+              (OptimisticFederateAmbassador) federateAmbassador : null);
+
+          if (datagramTransport != null && response.hasDatagramPort())
+          {
+            rtiDatagramAddress = new InetSocketAddress(
+              ((InetSocketAddress) rtiChannel.getRemoteAddress()).getAddress(), response.getDatagramPort());
+
+            datagramTransport.addPeer(rtiDatagramAddress, rtiChannel);
+            for (InetSocketAddress datagramGroup : response.getDatagramGroups())
+            {
+              datagramTransport.joinGroup(datagramGroup, rtiChannel);
+            }
+          }
 
           success = true;
         }
@@ -421,6 +455,18 @@ public class Federate
     return rtiChannel;
   }
 
+  /**
+   * Sends the specified receive order message to the RTI as a datagram if its transportation is
+   * {@code HLAbestEffort} and it fits in one, otherwise reliably.
+   */
+  public void writeBestEffort(Message message)
+  {
+    if (rtiDatagramAddress == null || !datagramTransport.write(message, rtiDatagramAddress))
+    {
+      rtiChannel.write(message);
+    }
+  }
+
   public FDD getFDD()
   {
     return fdd;
@@ -598,12 +644,6 @@ public class Federate
 
       callbackManager.add(federationRestoreBegun, false);
     }
-    catch (IOException ioe)
-    {
-      log.warn(LogMessages.UNABLE_TO_RESTORE_FEDERATE_STATE, ioe);
-
-      // TODO: abort restore
-    }
     finally
     {
       federateStateLock.readLock().unlock();
@@ -611,16 +651,55 @@ public class Federate
   }
 
   public void reflectAttributeValues(ReflectAttributeValues reflectAttributeValues)
+  {
+    // a message sent to a multicast group is only meant for some of the federates that joined it
+    //
+    if (reflectAttributeValues.isReceivingFederate(federateHandle))
+    {
+      if (reflectAttributeValues.getReceivedOrderType() == OrderType.TIMESTAMP && timeManager.isDistributed())
+      {
+        // the RTI forwards time stamp ordered messages right away under distributed time management
+        //
+        timeManager.timeStampOrderedCallbackReceived(
+          reflectAttributeValues.getTime(), reflectAttributeValues.getMessageRetractionHandle(),
+          reflectAttributeValues);
+      }
+      else
+      {
+        timeManager.getTimeLock().readLock().lock();
+        try
+        {
+          // receive order callbacks need to be held until released if we are constrained and in the time granted
+          // state, if asynchronous delivery is disabled
+          //
+          boolean hold = timeManager.isTimeConstrainedAndTimeGranted() && !isAsynchronousDeliveryEnabled();
+
+          callbackManager.add(reflectAttributeValues, hold);
+        }
+        finally
+        {
+          timeManager.getTimeLock().readLock().unlock();
+        }
+      }
+    }
+  }
+
+  /**
+   * Queues the receive order reflections of a batch, deciding once for the whole batch whether they must be held.
+   */
+  public void reflectAttributeValues(List<ReflectAttributeValues> reflectAttributeValues)
   {
     timeManager.getTimeLock().readLock().lock();
     try
     {
-      // receive order callbacks need to be held until released if we are constrained and in the time granted state,
-      // if asynchronous delivery is disabled
-      //
       boolean hold = timeManager.isTimeConstrainedAndTimeGranted() && !isAsynchronousDeliveryEnabled();
 
-      callbackManager.add(reflectAttributeValues, hold);
+      for (ReflectAttributeValues reflectAttributeValue : reflectAttributeValues)
+      {
+        assert reflectAttributeValue.getReceivedOrderType() == OrderType.RECEIVE;
+
+        callbackManager.add(reflectAttributeValue, hold);
+      }
     }
     finally
     {
@@ -630,37 +709,62 @@ public class Federate
 
   public void receiveInteraction(ReceiveInteraction receiveInteraction)
   {
-    timeManager.getTimeLock().readLock().lock();
-    try
+    // a message sent to a multicast group is only meant for some of the federates that joined it
+    //
+    if (receiveInteraction.isReceivingFederate(federateHandle))
     {
-      // receive order callbacks need to be held until released if we are constrained and in the time granted state,
-      // if asynchronous delivery is disabled
-      //
-      boolean hold = timeManager.isTimeConstrainedAndTimeGranted() && !isAsynchronousDeliveryEnabled();
+      if (receiveInteraction.getReceivedOrderType() == OrderType.TIMESTAMP && timeManager.isDistributed())
+      {
+        // the RTI forwards time stamp ordered messages right away under distributed time management
+        //
+        timeManager.timeStampOrderedCallbackReceived(
+          receiveInteraction.getTime(), receiveInteraction.getMessageRetractionHandle(), receiveInteraction);
+      }
+      else
+      {
+        timeManager.getTimeLock().readLock().lock();
+        try
+        {
+          // receive order callbacks need to be held until released if we are constrained and in the time granted
+          // state, if asynchronous delivery is disabled
+          //
+          boolean hold = timeManager.isTimeConstrainedAndTimeGranted() && !isAsynchronousDeliveryEnabled();
 
-      callbackManager.add(receiveInteraction, hold);
-    }
-    finally
-    {
-      timeManager.getTimeLock().readLock().unlock();
+          callbackManager.add(receiveInteraction, hold);
+        }
+        finally
+        {
+          timeManager.getTimeLock().readLock().unlock();
+        }
+      }
     }
   }
 
   public void removeObjectInstance(RemoveObjectInstance removeObjectInstance)
   {
-    timeManager.getTimeLock().readLock().lock();
-    try
+    if (removeObjectInstance.getReceivedOrderType() == OrderType.TIMESTAMP && timeManager.isDistributed())
+    {
+      // the RTI forwards time stamp ordered messages right away under distributed time management
+      //
+      timeManager.timeStampOrderedCallbackReceived(
+        removeObjectInstance.getTime(), removeObjectInstance.getMessageRetractionHandle(), removeObjectInstance);
+    }
+    else
     {
-        // receive order callbacks need to be held until released if we are constrained and in the time granted state,
-        // if asynchronous delivery is disabled
+      timeManager.getTimeLock().readLock().lock();
+      try
+      {
+        // receive order callbacks need to be held until released if we are constrained and in the time granted
+        // state, if asynchronous delivery is disabled
         //
         boolean hold = timeManager.isTimeConstrainedAndTimeGranted() && !isAsynchronousDeliveryEnabled();
 
         callbackManager.add(removeObjectInstance, hold);
-    }
-    finally
-    {
-      timeManager.getTimeLock().readLock().unlock();
+      }
+      finally
+      {
+        timeManager.getTimeLock().readLock().unlock();
+      }
     }
   }
 
@@ -757,6 +861,14 @@ public class Federate
     {
       checkIfActive();
 
+      if (timeManager.isDistributed())
+      {
+        // the RTI does not know the federate times a federation save is taken at
+        //
+        throw new RTIinternalError(I18n.getMessage(
+          ExceptionMessages.FEDERATION_SAVE_NOT_SUPPORTED_WITH_DISTRIBUTED_TIME_MANAGEMENT, federationExecutionName));
+      }
+
       RequestFederationSave requestFederationSave = new RequestFederationSave(label);
       rtiChannel.write(requestFederationSave);
 
@@ -783,17 +895,51 @@ public class Federate
   public void requestFederationSave(String label, LogicalTime time)
     throws LogicalTimeAlreadyPassed, InvalidLogicalTime, FederateUnableToUseTime, SaveInProgress, RestoreInProgress,
            RTIinternalError
+  {
+    requestTimedFederationSave(label, time, null);
+  }
+
+  /**
+   * Requests a federation save at the specified time that recurs every interval of logical time after that. Each
+   * recurring save is labelled with the label followed by the number of the save, starting at 0.
+   */
+  public void requestFederationSave(String label, LogicalTime time, LogicalTimeInterval interval)
+    throws LogicalTimeAlreadyPassed, InvalidLogicalTime, InvalidLogicalTimeInterval, FederateUnableToUseTime,
+           SaveInProgress, RestoreInProgress, RTIinternalError
+  {
+    if (interval == null || interval.isZero())
+    {
+      throw new InvalidLogicalTimeInterval(
+        I18n.getMessage(ExceptionMessages.INVALID_FEDERATION_SAVE_INTERVAL, interval));
+    }
+
+    requestTimedFederationSave(label, time, interval);
+  }
+
+  private void requestTimedFederationSave(String label, LogicalTime time, LogicalTimeInterval interval)
+    throws LogicalTimeAlreadyPassed, InvalidLogicalTime, FederateUnableToUseTime, SaveInProgress, RestoreInProgress,
+           RTIinternalError
   {
     federateStateLock.writeLock().lock();
     try
     {
       checkIfActive();
 
+      if (timeManager.isDistributed())
+      {
+        // the RTI does not know the federate times a federation save is taken at
+        //
+        throw new RTIinternalError(I18n.getMessage(
+          ExceptionMessages.FEDERATION_SAVE_NOT_SUPPORTED_WITH_DISTRIBUTED_TIME_MANAGEMENT, federationExecutionName));
+      }
+
       // no need to lock time manager because we have a write lock on the federate state
       //
       timeManager.checkIfLogicalTimeAlreadyPassed(time);
 
-      RequestFederationSave requestFederationSave = new RequestFederationSave(label, time);
+      RequestFederationSave requestFederationSave = interval == null ?
+        new RequestFederationSave(label, getLogicalTimeFactory(), time) :
+        new RequestFederationSave(label, getLogicalTimeFactory(), time, interval);
       rtiChannel.write(requestFederationSave);
 
       RequestFederationSaveResponse response = requestFederationSave.getResponse();
@@ -1059,6 +1205,7 @@ public class Federate
     try
     {
       checkIfActive();
+      checkIfOptimistic();
 
       objectManager.publishObjectClassAttributes(objectClassHandle, attributeHandles);
     }
@@ -1176,6 +1323,7 @@ public class Federate
     try
     {
       checkIfActive();
+      checkIfOptimistic();
 
       objectManager.subscribeObjectClassAttributes(objectClass, attributeHandles, passive);
     }
@@ -1395,6 +1543,23 @@ public class Federate
     }
   }
 
+  public void updateAttributeValues(Map<ObjectInstanceHandle, AttributeHandleValueMap> attributeValues, byte[] tag)
+    throws ObjectInstanceNotKnown, AttributeNotDefined, AttributeNotOwned, SaveInProgress, RestoreInProgress,
+           RTIinternalError
+  {
+    federateStateLock.readLock().lock();
+    try
+    {
+      checkIfActive();
+
+      objectManager.updateAttributeValues(attributeValues, tag);
+    }
+    finally
+    {
+      federateStateLock.readLock().unlock();
+    }
+  }
+
   public MessageRetractionReturn updateAttributeValues(
     ObjectInstanceHandle objectInstanceHandle, AttributeHandleValueMap attributeValues,
     byte[] tag, LogicalTime updateTime)
@@ -1419,6 +1584,8 @@ public class Federate
           sentOrderType = OrderType.TIMESTAMP;
 
           messageRetractionHandle = messageRetractionManager.add(updateTime);
+
+          timeManager.timeStampOrderedMessageSent(messageRetractionHandle);
         }
         else
         {
@@ -1493,6 +1660,8 @@ public class Federate
           sentOrderType = OrderType.TIMESTAMP;
 
           messageRetractionHandle = messageRetractionManager.add(sendTime);
+
+          timeManager.timeStampOrderedMessageSent(messageRetractionHandle);
         }
         else
         {
@@ -1556,6 +1725,8 @@ public class Federate
           sentOrderType = OrderType.TIMESTAMP;
 
           messageRetractionHandle = messageRetractionManager.add(deleteTime);
+
+          timeManager.timeStampOrderedMessageSent(messageRetractionHandle);
         }
         else
         {
@@ -2448,6 +2619,7 @@ public class Federate
     try
     {
       checkIfActive();
+      checkIfOptimistic();
 
       objectManager.subscribeObjectClassAttributesWithRegions(objectClassHandle, attributesAndRegions, passive);
     }
@@ -2585,6 +2757,8 @@ public class Federate
         if (sentOrderType == OrderType.TIMESTAMP)
         {
           messageRetractionHandle = messageRetractionManager.add(time);
+
+          timeManager.timeStampOrderedMessageSent(messageRetractionHandle);
         }
         else
         {
@@ -3335,20 +3509,32 @@ public class Federate
     throws FederateInternalError
   {
     timeManager.timeAdvanceGrant(time, federateAmbassador);
+
+    // messages sent before the granted time can no longer be retracted
+    //
+    messageRetractionManager.clear(time);
   }
 
-  public void handleFederateStateFrame(FederateStateFrame federateStateFrame)
+  public void requestRetraction(RequestRetraction requestRetraction)
   {
-    try
+    // a time stamp ordered callback still held under distributed time management is simply dropped, an optimistic
+    // federate is rolled back past it, otherwise the federate already received it and must undo it
+    //
+    if (!timeManager.retract(requestRetraction.getMessageRetractionHandle()) &&
+        !timeManager.retractDelivered(requestRetraction.getMessageRetractionHandle()))
     {
-      federateRestore.addFederateStateFrame(federateStateFrame);
+      callbackManager.add(requestRetraction, false);
     }
-    catch (IOException ioe)
-    {
-      log.warn(LogMessages.UNABLE_TO_RESTORE_FEDERATE_STATE, ioe);
+  }
 
-      // TODO: abort restore
-    }
+  public void lotsUpdated(LOTSUpdated lotsUpdated)
+  {
+    timeManager.lotsUpdated(lotsUpdated);
+  }
+
+  public void handleFederateStateFrame(FederateStateFrame federateStateFrame)
+  {
+    federateRestore.addFederateStateFrame(federateStateFrame);
   }
 
   public void saveState(CodedOutputStream out)
@@ -3443,4 +3629,17 @@ public class Federate
         break;
     }
   }
+
+  /**
+   * Object instances are not rolled back, a federate that can be rolled back may neither register nor discover them.
+   */
+  private void checkIfOptimistic()
+    throws RTIinternalError
+  {
+    if (timeManager.canRollback())
+    {
+      throw new RTIinternalError(I18n.getMessage(
+        ExceptionMessages.OBJECT_MANAGEMENT_NOT_SUPPORTED_WITH_OPTIMISTIC_TIME_MANAGEMENT, federationExecutionName));
+    }
+  }
 }
@@ -18,9 +18,11 @@ package net.sf.ohla.rti.federate;
 
 import java.util.concurrent.Executor;
 
+import net.sf.ohla.rti.messages.CoalescingWriteHandler;
 import net.sf.ohla.rti.messages.MessageChannelHandler;
 import net.sf.ohla.rti.messages.MessageDecoder;
 import net.sf.ohla.rti.messages.MessageEncoder;
+import net.sf.ohla.rti.messages.OrderedWriteHandler;
 import net.sf.ohla.rti.messages.RequestResponseChannelHandler;
 
 import org.jboss.netty.channel.ChannelPipeline;
@@ -33,10 +35,21 @@ public class FederateChannelPipelineFactory
   private final Executor executor;
   private final CallbackManager callbackManager;
 
+  /**
+   * Whether the channel is to an RTI embedded in the same JVM, messages are passed to it without being encoded.
+   */
+  private final boolean embedded;
+
   public FederateChannelPipelineFactory(Executor executor, CallbackManager callbackManager)
+  {
+    this(executor, callbackManager, false);
+  }
+
+  public FederateChannelPipelineFactory(Executor executor, CallbackManager callbackManager, boolean embedded)
   {
     this.executor = executor;
     this.callbackManager = callbackManager;
+    this.embedded = embedded;
   }
 
   public ChannelPipeline getPipeline()
@@ -44,8 +57,16 @@ public class FederateChannelPipelineFactory
   {
     ChannelPipeline pipeline = Channels.pipeline();
 
-    pipeline.addLast(MessageEncoder.NAME, new MessageEncoder());
-    pipeline.addLast(MessageDecoder.NAME, new MessageDecoder());
+    if (embedded)
+    {
+      pipeline.addLast(OrderedWriteHandler.NAME, new OrderedWriteHandler());
+    }
+    else
+    {
+      pipeline.addLast(CoalescingWriteHandler.NAME, new CoalescingWriteHandler());
+      pipeline.addLast(MessageEncoder.NAME, new MessageEncoder());
+      pipeline.addLast(MessageDecoder.NAME, new MessageDecoder());
+    }
     pipeline.addLast(MessageChannelHandler.NAME, new MessageChannelHandler(executor));
     pipeline.addLast(RequestResponseChannelHandler.NAME, new RequestResponseChannelHandler());
     pipeline.addLast(CallbackChannelHandler.NAME, new CallbackChannelHandler(callbackManager));
@@ -213,7 +213,7 @@ public class FederateMessageRetractionManager
         FederateMessageRetractionManagerState.MessageRetraction.newBuilder();
 
       messageRetraction.setMessageRetractionHandle(MessageRetractionHandles.convert(messageRetractionHandle));
-      messageRetraction.setExpiration(LogicalTimes.convert(expiration));
+      messageRetraction.setExpiration(LogicalTimes.convert(federate.getLogicalTimeFactory(), expiration));
 
       out.writeMessageNoTag(messageRetraction.build());
     }
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -234,8 +235,18 @@ public class FederateObjectInstance
     {
       checkIfAttributeNotOwned(attributeValues.keySet());
 
-      federate.getRTIChannel().write(new UpdateAttributeValues(
-        objectInstanceHandle, attributeValues, TransportationType.HLA_RELIABLE.getTransportationTypeHandle(), tag));
+      TransportationTypeHandle transportationTypeHandle = getTransportationTypeHandle(attributeValues.keySet());
+      UpdateAttributeValues updateAttributeValues =
+        new UpdateAttributeValues(objectInstanceHandle, attributeValues, transportationTypeHandle, tag);
+
+      if (transportationTypeHandle.equals(TransportationType.HLA_BEST_EFFORT.getTransportationTypeHandle()))
+      {
+        federate.writeBestEffort(updateAttributeValues);
+      }
+      else
+      {
+        federate.getRTIChannel().write(updateAttributeValues);
+      }
     }
     finally
     {
@@ -243,6 +254,53 @@ public class FederateObjectInstance
     }
   }
 
+  /**
+   * Adds an update of the specified attribute values to the reliable batch or, if its attributes are
+   * {@code HLAbestEffort}, to the updates to be written on their own. The object instance stays read locked, so the
+   * ownership of its attributes cannot change before the batch is sent, until {@link #updateAttributeValuesBatchSent()}
+   * is called. The lock is released right away if the update cannot be added.
+   */
+  public void updateAttributeValues(
+    AttributeHandleValueMap attributeValues, byte[] tag, List<UpdateAttributeValues> updateAttributeValuesBatch,
+    List<UpdateAttributeValues> bestEffortUpdateAttributeValues)
+    throws AttributeNotDefined, AttributeNotOwned
+  {
+    objectLock.readLock().lock();
+
+    boolean added = false;
+    try
+    {
+      checkIfAttributeNotOwned(attributeValues.keySet());
+
+      TransportationTypeHandle transportationTypeHandle = getTransportationTypeHandle(attributeValues.keySet());
+      UpdateAttributeValues updateAttributeValues =
+        new UpdateAttributeValues(objectInstanceHandle, attributeValues, transportationTypeHandle, tag);
+
+      if (transportationTypeHandle.equals(TransportationType.HLA_BEST_EFFORT.getTransportationTypeHandle()))
+      {
+        bestEffortUpdateAttributeValues.add(updateAttributeValues);
+      }
+      else
+      {
+        updateAttributeValuesBatch.add(updateAttributeValues);
+      }
+
+      added = true;
+    }
+    finally
+    {
+      if (!added)
+      {
+        objectLock.readLock().unlock();
+      }
+    }
+  }
+
+  public void updateAttributeValuesBatchSent()
+  {
+    objectLock.readLock().unlock();
+  }
+
   public void updateAttributeValues(
     AttributeHandleValueMap attributeValues, byte[] tag, LogicalTime updateTime,
     MessageRetractionHandle messageRetractionHandle, OrderType sentOrderType, Federate federate)
@@ -256,9 +314,22 @@ public class FederateObjectInstance
         // TODO: divide attributes by order type
       }
 
-      federate.getRTIChannel().write(new UpdateAttributeValues(
-        objectInstanceHandle, attributeValues, TransportationType.HLA_RELIABLE.getTransportationTypeHandle(), tag,
-        sentOrderType, updateTime, messageRetractionHandle));
+      TransportationTypeHandle transportationTypeHandle = getTransportationTypeHandle(attributeValues.keySet());
+      UpdateAttributeValues updateAttributeValues = new UpdateAttributeValues(
+        objectInstanceHandle, attributeValues, transportationTypeHandle, tag, sentOrderType,
+        federate.getLogicalTimeFactory(), updateTime, messageRetractionHandle);
+
+      // timestamp ordered updates are always sent reliably, the RTI must see them in order
+      //
+      if (sentOrderType == OrderType.RECEIVE &&
+          transportationTypeHandle.equals(TransportationType.HLA_BEST_EFFORT.getTransportationTypeHandle()))
+      {
+        federate.writeBestEffort(updateAttributeValues);
+      }
+      else
+      {
+        federate.getRTIChannel().write(updateAttributeValues);
+      }
     }
     finally
     {
@@ -1036,6 +1107,23 @@ public class FederateObjectInstance
     return attributeInstance;
   }
 
+  /**
+   * Returns {@code HLAbestEffort} if every one of the specified attributes is best effort, otherwise
+   * {@code HLAreliable}.
+   */
+  protected TransportationTypeHandle getTransportationTypeHandle(Set<AttributeHandle> attributeHandles)
+  {
+    boolean bestEffort = !attributeHandles.isEmpty();
+    for (Iterator<AttributeHandle> i = attributeHandles.iterator(); bestEffort && i.hasNext();)
+    {
+      FederateAttributeInstance attributeInstance = attributes.get(i.next());
+      bestEffort = attributeInstance != null && TransportationType.HLA_BEST_EFFORT.getTransportationTypeHandle().equals(
+        attributeInstance.getTransportationTypeHandle());
+    }
+    return bestEffort ? TransportationType.HLA_BEST_EFFORT.getTransportationTypeHandle() :
+      TransportationType.HLA_RELIABLE.getTransportationTypeHandle();
+  }
+
   protected void checkIfAttributeNotOwned(Set<AttributeHandle> attributeHandles)
     throws AttributeNotDefined, AttributeNotOwned
   {
@@ -18,10 +18,12 @@ package net.sf.ohla.rti.federate;
 
 import java.io.IOException;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
@@ -66,6 +68,8 @@ import net.sf.ohla.rti.messages.UnsubscribeInteractionClass;
 import net.sf.ohla.rti.messages.UnsubscribeInteractionClassWithRegions;
 import net.sf.ohla.rti.messages.UnsubscribeObjectClassAttributes;
 import net.sf.ohla.rti.messages.UnsubscribeObjectClassAttributesWithRegions;
+import net.sf.ohla.rti.messages.UpdateAttributeValues;
+import net.sf.ohla.rti.messages.UpdateAttributeValuesBatch;
 import net.sf.ohla.rti.messages.callbacks.ReceiveInteraction;
 import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValues;
 import net.sf.ohla.rti.messages.callbacks.RemoveObjectInstance;
@@ -946,6 +950,59 @@ public class FederateObjectManager
     }
   }
 
+  /**
+   * Sends the reliable updates of many object instances as one {@code UpdateAttributeValuesBatch}, the
+   * {@code HLAbestEffort} updates are written on their own as if each object instance had been updated alone. Each
+   * object instance stays read locked until all of the updates have been written, so no ownership change can reach
+   * the RTI ahead of an update it invalidates. Nothing is sent if any of the updates is invalid.
+   */
+  public void updateAttributeValues(Map<ObjectInstanceHandle, AttributeHandleValueMap> attributeValues, byte[] tag)
+    throws ObjectInstanceNotKnown, AttributeNotDefined, AttributeNotOwned, RTIinternalError
+  {
+    objectsLock.readLock().lock();
+    try
+    {
+      List<FederateObjectInstance> objectInstances = new ArrayList<>(attributeValues.size());
+      List<UpdateAttributeValues> updateAttributeValuesBatch = new ArrayList<>(attributeValues.size());
+      List<UpdateAttributeValues> bestEffortUpdateAttributeValues = new ArrayList<>();
+      try
+      {
+        for (Map.Entry<ObjectInstanceHandle, AttributeHandleValueMap> entry : attributeValues.entrySet())
+        {
+          if (entry.getValue() != null && !entry.getValue().isEmpty())
+          {
+            FederateObjectInstance objectInstance = getObjectInstance(entry.getKey());
+            objectInstance.updateAttributeValues(
+              entry.getValue(), tag, updateAttributeValuesBatch, bestEffortUpdateAttributeValues);
+
+            objectInstances.add(objectInstance);
+          }
+        }
+
+        if (!updateAttributeValuesBatch.isEmpty())
+        {
+          federate.getRTIChannel().write(new UpdateAttributeValuesBatch(updateAttributeValuesBatch));
+        }
+
+        for (UpdateAttributeValues updateAttributeValues : bestEffortUpdateAttributeValues)
+        {
+          federate.writeBestEffort(updateAttributeValues);
+        }
+      }
+      finally
+      {
+        for (FederateObjectInstance objectInstance : objectInstances)
+        {
+          objectInstance.updateAttributeValuesBatchSent();
+        }
+      }
+    }
+    finally
+    {
+      objectsLock.readLock().unlock();
+    }
+  }
+
   public void updateAttributeValues(
     ObjectInstanceHandle objectInstanceHandle, AttributeHandleValueMap attributeValues, byte[] tag, LogicalTime time,
     MessageRetractionHandle messageRetractionHandle, OrderType sentOrderType)
@@ -972,8 +1029,19 @@ public class FederateObjectManager
     {
       checkIfInteractionClassNotPublished(interactionClassHandle);
 
-      federate.getRTIChannel().write(new SendInteraction(
-        interactionClassHandle, parameterValues, TransportationType.HLA_RELIABLE.getTransportationTypeHandle(), tag));
+      TransportationTypeHandle transportationTypeHandle =
+        federate.getFDD().getInteractionClassSafely(interactionClassHandle).getTransportationTypeHandle();
+      SendInteraction sendInteraction =
+        new SendInteraction(interactionClassHandle, parameterValues, transportationTypeHandle, tag);
+
+      if (transportationTypeHandle.equals(TransportationType.HLA_BEST_EFFORT.getTransportationTypeHandle()))
+      {
+        federate.writeBestEffort(sendInteraction);
+      }
+      else
+      {
+        federate.getRTIChannel().write(sendInteraction);
+      }
     }
     finally
     {
@@ -991,9 +1059,23 @@ public class FederateObjectManager
     {
       checkIfInteractionClassNotPublished(interactionClassHandle);
 
-      federate.getRTIChannel().write(new SendInteraction(
-        interactionClassHandle, parameterValues, TransportationType.HLA_RELIABLE.getTransportationTypeHandle(), tag, sentOrderType,
-        time, messageRetractionHandle));
+      TransportationTypeHandle transportationTypeHandle =
+        federate.getFDD().getInteractionClassSafely(interactionClassHandle).getTransportationTypeHandle();
+      SendInteraction sendInteraction = new SendInteraction(
+        interactionClassHandle, parameterValues, transportationTypeHandle, tag, sentOrderType,
+        federate.getLogicalTimeFactory(), time, messageRetractionHandle);
+
+      // timestamp ordered interactions are always sent reliably, the RTI must see them in order
+      //
+      if (sentOrderType == OrderType.RECEIVE &&
+          transportationTypeHandle.equals(TransportationType.HLA_BEST_EFFORT.getTransportationTypeHandle()))
+      {
+        federate.writeBestEffort(sendInteraction);
+      }
+      else
+      {
+        federate.getRTIChannel().write(sendInteraction);
+      }
     }
     finally
     {
@@ -1037,7 +1119,8 @@ public class FederateObjectManager
       }
 
       federate.getRTIChannel().write(
-        new DeleteObjectInstance(objectInstanceHandle, tag, sentOrderType, time, messageRetractionHandle));
+        new DeleteObjectInstance(
+          objectInstanceHandle, tag, sentOrderType, federate.getLogicalTimeFactory(), time, messageRetractionHandle));
     }
     finally
     {
@@ -1231,18 +1314,17 @@ public class FederateObjectManager
             }
             else
             {
-              FederateAmbassador.SupplementalReflectInfo supplementalReflectInfo;
+              RegionHandleSet sentRegions;
               if (reflectAttributeValues.hasSentRegions())
               {
-                supplementalReflectInfo = new IEEE1516eSupplementalReflectInfo(
-                  reflectAttributeValues.getProducingFederateHandle(),
-                  federate.getRegionManager().createTemporaryRegions(reflectAttributeValues.getSentRegions()));
+                sentRegions = federate.getRegionManager().acquireSentRegions(reflectAttributeValues.getSentRegions());
               }
               else
               {
-                supplementalReflectInfo = new IEEE1516eSupplementalReflectInfo(
-                  reflectAttributeValues.getProducingFederateHandle(), null);
+                sentRegions = null;
               }
+              FederateAmbassador.SupplementalReflectInfo supplementalReflectInfo =
+                new IEEE1516eSupplementalReflectInfo(reflectAttributeValues.getProducingFederateHandle(), sentRegions);
 
               // TODO: I think this could change if no longer time constrined
               //
@@ -1258,9 +1340,9 @@ public class FederateObjectManager
               }
               finally
               {
-                if (supplementalReflectInfo.hasSentRegions())
+                if (sentRegions != null)
                 {
-                  federate.getRegionManager().deleteTemporaryRegions(supplementalReflectInfo.getSentRegions());
+                  federate.getRegionManager().releaseSentRegions(reflectAttributeValues.getSentRegions(), sentRegions);
                 }
               }
             }
@@ -1309,9 +1391,7 @@ public class FederateObjectManager
         RegionHandleSet sentRegions;
         if (receiveInteraction.hasSentRegions())
         {
-          // create a temporary region for the duration of the callback
-          //
-          sentRegions = federate.getRegionManager().createTemporaryRegions(receiveInteraction.getSentRegions());
+          sentRegions = federate.getRegionManager().acquireSentRegions(receiveInteraction.getSentRegions());
         }
         else
         {
@@ -1353,9 +1433,9 @@ public class FederateObjectManager
         }
         finally
         {
-          if (supplementalReceiveInfo.hasSentRegions())
+          if (sentRegions != null)
           {
-            federate.getRegionManager().deleteTemporaryRegions(supplementalReceiveInfo.getSentRegions());
+            federate.getRegionManager().releaseSentRegions(receiveInteraction.getSentRegions(), sentRegions);
           }
         }
       }
@@ -1649,7 +1729,8 @@ public class FederateObjectManager
 
         federate.getRTIChannel().write(new SendInteraction(
           interactionClass.getInteractionClassHandle(), parameterValues, tag, sentOrderType,
-          TransportationType.HLA_RELIABLE.getTransportationTypeHandle(), time, messageRetractionHandle, regionHandles));
+          TransportationType.HLA_RELIABLE.getTransportationTypeHandle(), federate.getLogicalTimeFactory(), time,
+          messageRetractionHandle, regionHandles));
       }
       finally
       {
@@ -21,10 +21,15 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import net.sf.ohla.rti.util.RegionHandles;
+import net.sf.ohla.rti.util.Regions;
 import net.sf.ohla.rti.fdd.InteractionClass;
 import net.sf.ohla.rti.fdd.ObjectClass;
 import net.sf.ohla.rti.hla.rti1516e.IEEE1516eRegionHandle;
@@ -33,6 +38,7 @@ import net.sf.ohla.rti.i18n.I18n;
 import net.sf.ohla.rti.messages.CommitRegionModifications;
 import net.sf.ohla.rti.messages.CreateRegion;
 import net.sf.ohla.rti.messages.DeleteRegion;
+import net.sf.ohla.rti.messages.proto.FederateMessageProtos;
 import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederateState.FederateRegionManagerState;
 
 import com.google.protobuf.CodedInputStream;
@@ -63,6 +69,23 @@ public class FederateRegionManager
   private final Map<RegionHandle, FederateRegion> regions = new HashMap<>();
   private final Map<RegionHandle, FederateRegion> temporaryRegions = new HashMap<>();
 
+  /**
+   * The latest version of every region other federates sent callbacks with, by the handle the RTI knows it by.
+   */
+  private final Map<RegionHandle, SentRegion> sentRegions = new HashMap<>();
+
+  /**
+   * The sets of sent regions callbacks were sent with, so the callbacks sent with the same regions share their
+   * temporary regions and {@code RegionHandleSet}.
+   */
+  private final Map<List<SentRegion>, SentRegions> sentRegionSets = new HashMap<>();
+
+  /**
+   * Superseded sent regions whose temporary regions are deleted by the thread evoking callbacks, after the callback
+   * that might be using them.
+   */
+  private final Queue<SentRegion> supersededSentRegions = new ConcurrentLinkedQueue<>();
+
   private int nextRegionHandle;
 
   public FederateRegionManager(Federate federate)
@@ -102,38 +125,181 @@ public class FederateRegionManager
     return regionHandle;
   }
 
-  public RegionHandleSet createTemporaryRegions(Collection<Map<DimensionHandle, RangeBounds>> regions)
+  /**
+   * Resolves the regions a callback was sent with as it arrives from the RTI. The extents of a region are only sent
+   * with the first reliable callback using that version of the region, later callbacks refer to it by its handle and
+   * version. Callbacks sent best effort always carry the extents, but never replace a cached version since they can
+   * overtake the reliable callbacks still referring to it.
+   *
+   * @param regionProtos the sent regions
+   * @param reliable {@code true} if the callback was sent reliably
+   * @return the sent regions
+   */
+  public SentRegions resolveSentRegions(List<FederateMessageProtos.Region> regionProtos, boolean reliable)
   {
-    RegionHandleSet regionHandles = federate.getRegionHandleSetFactory().create();
+    List<SentRegion> resolvedSentRegions = new ArrayList<>(regionProtos.size());
+    boolean cached = true;
 
-    regionsLock.writeLock().lock();
-    try
+    synchronized (sentRegions)
     {
-      for (Map<DimensionHandle, RangeBounds> region : regions)
+      for (FederateMessageProtos.Region regionProto : regionProtos)
       {
-        IEEE1516eRegionHandle regionHandle = new IEEE1516eRegionHandle(federate.getFederateHandle(), ++nextRegionHandle);
-        temporaryRegions.put(regionHandle, new FederateRegion(regionHandle, region));
-        regionHandles.add(regionHandle);
+        SentRegion sentRegion;
+        if (regionProto.hasRegionHandle())
+        {
+          RegionHandle regionHandle = RegionHandles.convert(regionProto.getRegionHandle());
+
+          sentRegion = sentRegions.get(regionHandle);
+          if (sentRegion == null || sentRegion.version != regionProto.getVersion())
+          {
+            SentRegion newerSentRegion =
+              new SentRegion(regionProto.getVersion(), Regions.convertFromProto(regionProto));
+            if (reliable)
+            {
+              if (sentRegion != null)
+              {
+                supersede(sentRegion);
+              }
+
+              sentRegions.put(regionHandle, newerSentRegion);
+            }
+            else
+            {
+              cached = false;
+            }
+            sentRegion = newerSentRegion;
+          }
+        }
+        else
+        {
+          sentRegion = new SentRegion(-1, Regions.convertFromProto(regionProto));
+          cached = false;
+        }
+        resolvedSentRegions.add(sentRegion);
       }
+
+      SentRegions sentRegionSet;
+      if (cached)
+      {
+        sentRegionSet = sentRegionSets.get(resolvedSentRegions);
+        if (sentRegionSet == null)
+        {
+          sentRegionSet = new SentRegions(resolvedSentRegions);
+          sentRegionSets.put(resolvedSentRegions, sentRegionSet);
+
+          for (SentRegion sentRegion : resolvedSentRegions)
+          {
+            sentRegion.sentRegionSets.add(sentRegionSet);
+          }
+        }
+      }
+      else
+      {
+        // superseded from the start so its temporary regions only last for the callback
+        //
+        sentRegionSet = new SentRegions(resolvedSentRegions);
+        sentRegionSet.superseded = true;
+      }
+      return sentRegionSet;
     }
-    finally
+  }
+
+  /**
+   * Returns the temporary regions passed to the federate with a callback sent with the specified regions. Cached sent
+   * regions share their temporary regions and {@code RegionHandleSet} with every other callback sent with them, so
+   * their temporary regions are only created once. Must only be called by the thread evoking callbacks.
+   *
+   * @param sentRegions the sent regions
+   * @return the temporary regions, to be released by {@link #releaseSentRegions(SentRegions, RegionHandleSet)}
+   */
+  public RegionHandleSet acquireSentRegions(SentRegions sentRegions)
+  {
+    RegionHandleSet regionHandles;
+    if (!sentRegions.superseded)
     {
-      regionsLock.writeLock().unlock();
+      if (sentRegions.regionHandles == null)
+      {
+        regionHandles = federate.getRegionHandleSetFactory().create();
+
+        regionsLock.writeLock().lock();
+        try
+        {
+          for (SentRegion sentRegion : sentRegions.sentRegions)
+          {
+            if (sentRegion.temporaryRegionHandle == null)
+            {
+              sentRegion.temporaryRegionHandle = createTemporaryRegion(sentRegion.rangeBounds);
+            }
+            regionHandles.add(sentRegion.temporaryRegionHandle);
+          }
+        }
+        finally
+        {
+          regionsLock.writeLock().unlock();
+        }
+
+        sentRegions.regionHandles = regionHandles;
+      }
+      else
+      {
+        regionHandles = sentRegions.regionHandles;
+      }
     }
+    else
+    {
+      // create temporary regions for the duration of the callback
+      //
+      regionHandles = federate.getRegionHandleSetFactory().create();
 
+      regionsLock.writeLock().lock();
+      try
+      {
+        for (SentRegion sentRegion : sentRegions.sentRegions)
+        {
+          regionHandles.add(createTemporaryRegion(sentRegion.rangeBounds));
+        }
+      }
+      finally
+      {
+        regionsLock.writeLock().unlock();
+      }
+    }
     return regionHandles;
   }
 
-  public void deleteTemporaryRegions(RegionHandleSet regionHandles)
+  /**
+   * Releases the temporary regions passed to the federate with a callback, along with the temporary regions of any sent
+   * regions superseded since. Must only be called by the thread evoking callbacks.
+   *
+   * @param sentRegions the sent regions
+   * @param regionHandles the temporary regions returned by {@link #acquireSentRegions(SentRegions)}
+   */
+  public void releaseSentRegions(SentRegions sentRegions, RegionHandleSet regionHandles)
   {
-    regionsLock.writeLock().lock();
-    try
-    {
-      temporaryRegions.keySet().removeAll(regionHandles);
-    }
-    finally
+    boolean temporary = regionHandles != sentRegions.regionHandles;
+    if (temporary || !supersededSentRegions.isEmpty())
     {
-      regionsLock.writeLock().unlock();
+      regionsLock.writeLock().lock();
+      try
+      {
+        if (temporary)
+        {
+          temporaryRegions.keySet().removeAll(regionHandles);
+        }
+
+        for (SentRegion sentRegion = supersededSentRegions.poll(); sentRegion != null;
+             sentRegion = supersededSentRegions.poll())
+        {
+          if (sentRegion.temporaryRegionHandle != null)
+          {
+            temporaryRegions.remove(sentRegion.temporaryRegionHandle);
+          }
+        }
+      }
+      finally
+      {
+        regionsLock.writeLock().unlock();
+      }
     }
   }
 
@@ -566,10 +732,9 @@ public class FederateRegionManager
   public void saveState(CodedOutputStream out)
     throws IOException
   {
-    // temporary regions only exist during a 'message' (interaction/reflection) callback
+    // temporary regions only exist during a 'message' (interaction/reflection) callback or are cached for the sent
+    // regions, neither are saved
     //
-    assert temporaryRegions.isEmpty();
-
     FederateRegionManagerState.Builder regionManagerState = FederateRegionManagerState.newBuilder();
 
     regionManagerState.setNextRegionHandle(nextRegionHandle);
@@ -590,6 +755,22 @@ public class FederateRegionManager
 
     nextRegionHandle = regionManagerState.getNextRegionHandle();
 
+    // the handles of the cached temporary regions might be handed out again, they are created again when next used
+    //
+    temporaryRegions.clear();
+    supersededSentRegions.clear();
+    synchronized (sentRegions)
+    {
+      for (SentRegion sentRegion : sentRegions.values())
+      {
+        sentRegion.temporaryRegionHandle = null;
+      }
+      for (SentRegions sentRegionSet : sentRegionSets.values())
+      {
+        sentRegionSet.regionHandles = null;
+      }
+    }
+
     for (int regionStateCount = regionManagerState.getRegionStateCount(); regionStateCount > 0; --regionStateCount)
     {
       FederateRegion federateRegion = new FederateRegion(in);
@@ -597,6 +778,32 @@ public class FederateRegionManager
     }
   }
 
+  /**
+   * Supersedes a cached sent region by a later version of it, along with every set of sent regions including it.
+   */
+  private void supersede(SentRegion sentRegion)
+  {
+    // dangerous method, must be called with proper protection
+
+    for (SentRegions sentRegionSet : sentRegion.sentRegionSets)
+    {
+      sentRegionSet.superseded = true;
+      sentRegionSets.remove(sentRegionSet.sentRegions);
+    }
+    sentRegion.sentRegionSets.clear();
+
+    supersededSentRegions.add(sentRegion);
+  }
+
+  private RegionHandle createTemporaryRegion(Map<DimensionHandle, RangeBounds> rangeBounds)
+  {
+    // dangerous method, must be called with proper protection
+
+    IEEE1516eRegionHandle regionHandle = new IEEE1516eRegionHandle(federate.getFederateHandle(), ++nextRegionHandle);
+    temporaryRegions.put(regionHandle, new FederateRegion(regionHandle, rangeBounds));
+    return regionHandle;
+  }
+
   private FederateRegion getRegion(RegionHandle regionHandle)
     throws RegionNotCreatedByThisFederate
   {
@@ -618,4 +825,52 @@ public class FederateRegionManager
         ExceptionMessages.REGION_NOT_CREATED_BY_THIS_FEDERATE, regionHandle));
     }
   }
+
+  /**
+   * The regions a callback was sent with. Callbacks sent with the same cached regions share one {@code SentRegions}.
+   */
+  public static class SentRegions
+  {
+    private final List<SentRegion> sentRegions;
+
+    /**
+     * Set once any of the regions is superseded by a later version, the temporary regions are then only created for
+     * the duration of a callback.
+     */
+    private volatile boolean superseded;
+
+    /**
+     * The temporary regions of the sent regions, created the first time a callback uses them. Only used by the thread
+     * evoking callbacks.
+     */
+    private RegionHandleSet regionHandles;
+
+    private SentRegions(List<SentRegion> sentRegions)
+    {
+      this.sentRegions = sentRegions;
+    }
+  }
+
+  private static class SentRegion
+  {
+    private final int version;
+    private final Map<DimensionHandle, RangeBounds> rangeBounds;
+
+    /**
+     * The cached sets of sent regions including this region.
+     */
+    private final List<SentRegions> sentRegionSets = new ArrayList<>(1);
+
+    /**
+     * The temporary region of this sent region, created the first time a callback uses it. Only used by the thread
+     * evoking callbacks.
+     */
+    private RegionHandle temporaryRegionHandle;
+
+    private SentRegion(int version, Map<DimensionHandle, RangeBounds> rangeBounds)
+    {
+      this.version = version;
+      this.rangeBounds = rangeBounds;
+    }
+  }
 }
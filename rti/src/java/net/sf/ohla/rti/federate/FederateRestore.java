@@ -1,17 +1,9 @@
 package net.sf.ohla.rti.federate;
 
 import java.io.IOException;
-import java.io.InputStream;
-
-import java.nio.channels.Channels;
-import java.nio.channels.FileChannel;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 
 import java.util.concurrent.CountDownLatch;
 
-import net.sf.ohla.rti.util.MoreChannels;
 import net.sf.ohla.rti.i18n.ExceptionMessages;
 import net.sf.ohla.rti.i18n.I18n;
 import net.sf.ohla.rti.i18n.I18nLogger;
@@ -19,6 +11,7 @@ import net.sf.ohla.rti.i18n.LogMessages;
 import net.sf.ohla.rti.messages.FederateRestoreComplete;
 import net.sf.ohla.rti.messages.FederateRestoreNotComplete;
 import net.sf.ohla.rti.messages.FederateStateFrame;
+import net.sf.ohla.rti.messages.FederateStateInputStream;
 import net.sf.ohla.rti.messages.callbacks.FederationRestoreBegun;
 
 import com.google.common.util.concurrent.Uninterruptibles;
@@ -27,22 +20,21 @@ import hla.rti1516e.FederateHandle;
 import hla.rti1516e.RestoreStatus;
 import hla.rti1516e.exceptions.RTIinternalError;
 
+/**
+ * A restore of a {@link Federate}. The federate's state is restored as it is received from the RTI, frame by frame.
+ */
 public class FederateRestore
 {
-  public static final String FEDERATE_STATE = "Federate_State";
-
   private final FederateStateReader federateStateReader = new FederateStateReader();
 
-  private final CountDownLatch federateStateReceived = new CountDownLatch(1);
+  private final FederateStateInputStream federateStateInputStream = new FederateStateInputStream();
+
   private final CountDownLatch federateStateRestored = new CountDownLatch(1);
 
   private final I18nLogger log;
 
   private final Federate federate;
 
-  private final Path federateStateFile;
-  private final FileChannel federateStateFileChannel;
-
   private final String label;
 
   private final FederateHandle federateHandle;
@@ -53,7 +45,6 @@ public class FederateRestore
   private Throwable exception;
 
   public FederateRestore(Federate federate, FederationRestoreBegun federationRestoreBegun)
-    throws IOException
   {
     this.federate = federate;
 
@@ -62,11 +53,6 @@ public class FederateRestore
     federateName = federationRestoreBegun.getFederateName();
 
     log = I18nLogger.getLogger(federate.getMarker(), getClass());
-
-    federateStateFile = Files.createTempFile(FEDERATE_STATE, "restore");
-    log.debug("Federate state file: {}", federateStateFile);
-
-    federateStateFileChannel = FileChannel.open(federateStateFile, StandardOpenOption.WRITE);
   }
 
   public String getLabel()
@@ -95,16 +81,8 @@ public class FederateRestore
   }
 
   public void addFederateStateFrame(FederateStateFrame federateStateFrame)
-    throws IOException
   {
-    MoreChannels.writeFully(federateStateFileChannel, federateStateFrame.getPayload().asReadOnlyByteBuffer());
-
-    if (federateStateFrame.isLast())
-    {
-      federateStateFileChannel.close();
-
-      federateStateReceived.countDown();
-    }
+    federateStateInputStream.add(federateStateFrame);
   }
 
   public void begun()
@@ -168,11 +146,9 @@ public class FederateRestore
   {
     public void run()
     {
-      Uninterruptibles.awaitUninterruptibly(federateStateReceived);
-
-      try (InputStream in = Channels.newInputStream(FileChannel.open(federateStateFile, StandardOpenOption.READ)))
+      try
       {
-        CodedInputStream codedInputStream = CodedInputStream.newInstance(in);
+        CodedInputStream codedInputStream = CodedInputStream.newInstance(federateStateInputStream);
         federate.restoreState(codedInputStream);
       }
       catch (IOException ioe)
@@ -185,15 +161,6 @@ public class FederateRestore
       {
         federateStateRestored.countDown();
       }
-
-      try
-      {
-        Files.delete(federateStateFile);
-      }
-      catch (IOException ioe)
-      {
-        log.warn(LogMessages.UNEXPECTED_EXCEPTION, ioe, ioe);
-      }
     }
   }
 }
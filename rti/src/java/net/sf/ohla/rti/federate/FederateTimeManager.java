@@ -18,35 +18,54 @@ package net.sf.ohla.rti.federate;
 
 import java.io.IOException;
 
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import net.sf.ohla.rti.hla.rti1516e.OptimisticFederateAmbassador;
+import net.sf.ohla.rti.util.IndexedMinHeap;
 import net.sf.ohla.rti.util.LogicalTimeIntervals;
 import net.sf.ohla.rti.util.LogicalTimes;
 import net.sf.ohla.rti.i18n.ExceptionMessages;
 import net.sf.ohla.rti.i18n.I18n;
 import net.sf.ohla.rti.i18n.I18nLogger;
+import net.sf.ohla.rti.i18n.LogMessages;
+import net.sf.ohla.rti.messages.AcknowledgeLOTS;
 import net.sf.ohla.rti.messages.DisableTimeConstrained;
 import net.sf.ohla.rti.messages.DisableTimeRegulation;
 import net.sf.ohla.rti.messages.EnableTimeConstrained;
 import net.sf.ohla.rti.messages.EnableTimeRegulation;
 import net.sf.ohla.rti.messages.FlushQueueRequest;
+import net.sf.ohla.rti.messages.LOTSUpdated;
 import net.sf.ohla.rti.messages.ModifyLookahead;
 import net.sf.ohla.rti.messages.NextMessageRequest;
 import net.sf.ohla.rti.messages.NextMessageRequestAvailable;
 import net.sf.ohla.rti.messages.QueryGALT;
 import net.sf.ohla.rti.messages.QueryLITS;
+import net.sf.ohla.rti.messages.Retract;
 import net.sf.ohla.rti.messages.TimeAdvanceRequest;
 import net.sf.ohla.rti.messages.TimeAdvanceRequestAvailable;
+import net.sf.ohla.rti.messages.UpdateLOTS;
+import net.sf.ohla.rti.messages.callbacks.TimeAdvanceGrant;
+import net.sf.ohla.rti.messages.callbacks.TimeConstrainedEnabled;
 import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederateState.FederateTimeManagerState;
 import net.sf.ohla.rti.proto.OHLAProtos;
 
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
 import hla.rti1516e.FederateAmbassador;
+import hla.rti1516e.FederateHandle;
 import hla.rti1516e.LogicalTime;
 import hla.rti1516e.LogicalTimeFactory;
 import hla.rti1516e.LogicalTimeInterval;
+import hla.rti1516e.MessageRetractionHandle;
 import hla.rti1516e.TimeQueryReturn;
 import hla.rti1516e.exceptions.CouldNotEncode;
 import hla.rti1516e.exceptions.FederateInternalError;
@@ -105,9 +124,73 @@ public class FederateTimeManager
   private LogicalTime advanceRequestTime;
   private TimeAdvanceType advanceRequestType = TimeAdvanceType.NONE;
 
-  public FederateTimeManager(Federate federate, LogicalTimeFactory logicalTimeFactory)
+  /**
+   * Set if the federation execution uses distributed time management, the federate then grants its own time advances
+   * from the LOTS the time regulating federates announce through the RTI.
+   */
+  private final boolean distributed;
+
+  /**
+   * The LOTS of every other time regulating federate under distributed time management, the least is the GALT.
+   */
+  private final IndexedMinHeap<FederateHandle, LogicalTime> timeRegulatingFederateLOTS = new IndexedMinHeap<>();
+
+  /**
+   * The time stamp ordered callbacks held under distributed time management until a time advance grant passes them.
+   */
+  private final TreeMap<LogicalTime, Map<MessageRetractionHandle, Callback>> timeStampOrderedCallbacks =
+    new TreeMap<>();
+
+  /**
+   * The time of every held time stamp ordered callback, so a retraction can find it.
+   */
+  private final Map<MessageRetractionHandle, LogicalTime> timeStampOrderedCallbackTimes = new HashMap<>();
+
+  /**
+   * The LOTS last announced to the RTI under distributed time management.
+   */
+  private LogicalTime announcedLOTS;
+
+  /**
+   * The type of the last granted time advance, it decides the LITS of the federate.
+   */
+  private TimeAdvanceType grantedAdvanceType = TimeAdvanceType.NONE;
+
+  /**
+   * Set if the federation execution uses optimistic time management and the federate can be rolled back, its time
+   * advances are then granted right away while it is time constrained.
+   */
+  private final OptimisticFederateAmbassador optimisticFederateAmbassador;
+
+  /**
+   * The checkpoints of an optimistic federate, oldest first. The oldest is the last one below the GALT, which no
+   * straggler or retraction can reach below, so older ones are discarded.
+   */
+  private final LinkedList<Checkpoint> checkpoints = new LinkedList<>();
+
+  /**
+   * The time and type of the last time advance granted to an optimistic federate, the federate may not have received
+   * the grant yet. A time stamp ordered message that arrives at or below it is a straggler.
+   */
+  private LogicalTime optimisticGrantTime;
+  private TimeAdvanceType optimisticGrantType = TimeAdvanceType.NONE;
+
+  /**
+   * The checkpoint a pending rollback returns to, and the earliest straggler or retracted message it is for.
+   */
+  private Checkpoint rollbackCheckpoint;
+  private LogicalTime rollbackTime;
+
+  private boolean timeAdvanceGrantPending;
+  private boolean timeConstrainedEnabledPending;
+
+  public FederateTimeManager(
+    Federate federate, LogicalTimeFactory logicalTimeFactory, boolean distributed,
+    OptimisticFederateAmbassador optimisticFederateAmbassador)
   {
     this.federate = federate;
+    this.distributed = distributed;
+    this.optimisticFederateAmbassador = optimisticFederateAmbassador;
 
     log = I18nLogger.getLogger(federate.getMarker(), getClass());
 
@@ -126,6 +209,27 @@ public class FederateTimeManager
     return lookahead;
   }
 
+  public boolean isDistributed()
+  {
+    return distributed;
+  }
+
+  /**
+   * Returns {@code true} if the time advances of the federate are granted optimistically.
+   */
+  public boolean isOptimistic()
+  {
+    return optimisticFederateAmbassador != null && isTimeConstrained();
+  }
+
+  /**
+   * Returns {@code true} if the federate is rolled back once it is time constrained.
+   */
+  public boolean canRollback()
+  {
+    return optimisticFederateAmbassador != null;
+  }
+
   public ReadWriteLock getTimeLock()
   {
     return timeLock;
@@ -182,7 +286,11 @@ public class FederateTimeManager
       checkIfInTimeAdvancingState();
       checkIfRequestForTimeRegulationPending();
 
-      federate.getRTIChannel().write(new EnableTimeRegulation(lookahead));
+      // under distributed time management the RTI no longer tracks the federate's time
+      //
+      federate.getRTIChannel().write(
+        distributed ? new EnableTimeRegulation(federate.getLogicalTimeFactory(), lookahead, federateTime) :
+          new EnableTimeRegulation(federate.getLogicalTimeFactory(), lookahead));
 
       this.lookahead = lookahead;
 
@@ -212,6 +320,7 @@ public class FederateTimeManager
 
       lookahead = null;
       lots = null;
+      announcedLOTS = null;
     }
     finally
     {
@@ -254,6 +363,31 @@ public class FederateTimeManager
       federate.getRTIChannel().write(new DisableTimeConstrained());
 
       timeConstrainedState = TimeConstrainedState.NOT_TIME_CONSTRAINED;
+
+      if (distributed)
+      {
+        // nothing holds back the time stamp ordered callbacks any longer
+        //
+        for (Map<MessageRetractionHandle, Callback> callbacks : timeStampOrderedCallbacks.values())
+        {
+          for (Callback callback : callbacks.values())
+          {
+            federate.getCallbackManager().add(callback, false);
+          }
+        }
+        timeStampOrderedCallbacks.clear();
+        timeStampOrderedCallbackTimes.clear();
+
+        timeRegulatingFederateLOTS.clear();
+
+        // nothing can roll the federate back any longer either
+        //
+        checkpoints.clear();
+        optimisticGrantTime = null;
+        optimisticGrantType = TimeAdvanceType.NONE;
+        rollbackCheckpoint = null;
+        rollbackTime = null;
+      }
     }
     finally
     {
@@ -275,7 +409,12 @@ public class FederateTimeManager
       checkIfRequestForTimeRegulationPending();
       checkIfRequestForTimeConstrainedPending();
 
-      federate.getRTIChannel().write(new TimeAdvanceRequest(time));
+      Checkpoint checkpoint = takeCheckpoint();
+
+      if (!distributed)
+      {
+        federate.getRTIChannel().write(new TimeAdvanceRequest(federate.getLogicalTimeFactory(), time));
+      }
 
       if (isTimeRegulating())
       {
@@ -292,11 +431,18 @@ public class FederateTimeManager
       advanceRequestTime = time;
       advanceRequestType = TimeAdvanceType.TIME_ADVANCE_REQUEST;
 
+      addCheckpoint(checkpoint);
+
       temporalState = TemporalState.TIME_ADVANCING;
 
       // release any callbacks held until we are time advancing
       //
       federate.getCallbackManager().releaseHeld();
+
+      if (distributed)
+      {
+        checkDistributedTimeAdvanceGrant();
+      }
     }
     catch (CouldNotEncode cne)
     {
@@ -322,7 +468,12 @@ public class FederateTimeManager
       checkIfRequestForTimeRegulationPending();
       checkIfRequestForTimeConstrainedPending();
 
-      federate.getRTIChannel().write(new TimeAdvanceRequestAvailable(time));
+      Checkpoint checkpoint = takeCheckpoint();
+
+      if (!distributed)
+      {
+        federate.getRTIChannel().write(new TimeAdvanceRequestAvailable(federate.getLogicalTimeFactory(), time));
+      }
 
       if (isTimeRegulating())
       {
@@ -339,11 +490,18 @@ public class FederateTimeManager
       advanceRequestTime = time;
       advanceRequestType = TimeAdvanceType.TIME_ADVANCE_REQUEST_AVAILABLE;
 
+      addCheckpoint(checkpoint);
+
       temporalState = TemporalState.TIME_ADVANCING;
 
       // release any callbacks held until we are time advancing
       //
       federate.getCallbackManager().releaseHeld();
+
+      if (distributed)
+      {
+        checkDistributedTimeAdvanceGrant();
+      }
     }
     catch (CouldNotEncode cne)
     {
@@ -369,7 +527,12 @@ public class FederateTimeManager
       checkIfRequestForTimeRegulationPending();
       checkIfRequestForTimeConstrainedPending();
 
-      federate.getRTIChannel().write(new NextMessageRequest(time));
+      Checkpoint checkpoint = takeCheckpoint();
+
+      if (!distributed)
+      {
+        federate.getRTIChannel().write(new NextMessageRequest(federate.getLogicalTimeFactory(), time));
+      }
 
       if (isTimeRegulating())
       {
@@ -386,11 +549,18 @@ public class FederateTimeManager
       advanceRequestTime = time;
       advanceRequestType = TimeAdvanceType.NEXT_MESSAGE_REQUEST;
 
+      addCheckpoint(checkpoint);
+
       temporalState = TemporalState.TIME_ADVANCING;
 
       // release any callbacks held until we are time advancing
       //
       federate.getCallbackManager().releaseHeld();
+
+      if (distributed)
+      {
+        checkDistributedTimeAdvanceGrant();
+      }
     }
     finally
     {
@@ -412,7 +582,12 @@ public class FederateTimeManager
       checkIfRequestForTimeConstrainedPending();
       checkIfRequestForTimeRegulationPending();
 
-      federate.getRTIChannel().write(new NextMessageRequestAvailable(time));
+      Checkpoint checkpoint = takeCheckpoint();
+
+      if (!distributed)
+      {
+        federate.getRTIChannel().write(new NextMessageRequestAvailable(federate.getLogicalTimeFactory(), time));
+      }
 
       if (isTimeRegulating())
       {
@@ -429,11 +604,18 @@ public class FederateTimeManager
       advanceRequestTime = time;
       advanceRequestType = TimeAdvanceType.NEXT_MESSAGE_REQUEST_AVAILABLE;
 
+      addCheckpoint(checkpoint);
+
       temporalState = TemporalState.TIME_ADVANCING;
 
       // release any callbacks held until we are time advancing
       //
       federate.getCallbackManager().releaseHeld();
+
+      if (distributed)
+      {
+        checkDistributedTimeAdvanceGrant();
+      }
     }
     finally
     {
@@ -455,7 +637,12 @@ public class FederateTimeManager
       checkIfRequestForTimeRegulationPending();
       checkIfRequestForTimeConstrainedPending();
 
-      federate.getRTIChannel().write(new FlushQueueRequest(time));
+      Checkpoint checkpoint = takeCheckpoint();
+
+      if (!distributed)
+      {
+        federate.getRTIChannel().write(new FlushQueueRequest(federate.getLogicalTimeFactory(), time));
+      }
 
       if (isTimeRegulating())
       {
@@ -472,11 +659,18 @@ public class FederateTimeManager
       advanceRequestTime = time;
       advanceRequestType = TimeAdvanceType.FLUSH_QUEUE_REQUEST;
 
+      addCheckpoint(checkpoint);
+
       temporalState = TemporalState.TIME_ADVANCING;
 
       // release any callbacks held until we are time advancing
       //
       federate.getCallbackManager().releaseHeld();
+
+      if (distributed)
+      {
+        checkDistributedTimeAdvanceGrant();
+      }
     }
     catch (CouldNotEncode cne)
     {
@@ -494,10 +688,18 @@ public class FederateTimeManager
     timeLock.readLock().lock();
     try
     {
-      QueryGALT queryGALT = new QueryGALT();
-      federate.getRTIChannel().write(queryGALT);
+      LogicalTime galt;
+      if (distributed && timeConstrainedState != TimeConstrainedState.NOT_TIME_CONSTRAINED)
+      {
+        galt = timeRegulatingFederateLOTS.peekValue();
+      }
+      else
+      {
+        QueryGALT queryGALT = new QueryGALT();
+        federate.getRTIChannel().write(queryGALT);
 
-      LogicalTime galt = queryGALT.getResponse().getGALT(federate.getLogicalTimeFactory());
+        galt = queryGALT.getResponse().getGALT(federate.getLogicalTimeFactory());
+      }
       return new TimeQueryReturn(galt != null, galt);
     }
     finally
@@ -527,10 +729,19 @@ public class FederateTimeManager
     timeLock.readLock().lock();
     try
     {
-      QueryLITS queryLITS = new QueryLITS();
-      federate.getRTIChannel().write(queryLITS);
+      LogicalTime lits;
+      if (distributed && timeConstrainedState != TimeConstrainedState.NOT_TIME_CONSTRAINED)
+      {
+        lits = min(timeStampOrderedCallbacks.isEmpty() ? null : timeStampOrderedCallbacks.firstKey(),
+                   timeRegulatingFederateLOTS.peekValue());
+      }
+      else
+      {
+        QueryLITS queryLITS = new QueryLITS();
+        federate.getRTIChannel().write(queryLITS);
 
-      LogicalTime lits = queryLITS.getResponse().getLITS(federate.getLogicalTimeFactory());
+        lits = queryLITS.getResponse().getLITS(federate.getLogicalTimeFactory());
+      }
       return new TimeQueryReturn(lits != null, lits);
     }
     finally
@@ -549,7 +760,7 @@ public class FederateTimeManager
       checkIfInvalidLookahead(lookahead);
       checkIfInTimeAdvancingState();
 
-      federate.getRTIChannel().write(new ModifyLookahead(lookahead));
+      federate.getRTIChannel().write(new ModifyLookahead(federate.getLogicalTimeFactory(), lookahead));
 
       this.lookahead = lookahead;
     }
@@ -585,6 +796,10 @@ public class FederateTimeManager
       federateTime = time;
       lots = time.add(lookahead);
 
+      // the RTI already relayed it
+      //
+      announcedLOTS = lots;
+
       timeRegulatingState = TimeRegulatingState.TIME_REGULATING;
 
       federateAmbassador.timeRegulationEnabled(time);
@@ -608,6 +823,7 @@ public class FederateTimeManager
       federateTime = time;
 
       timeConstrainedState = TimeConstrainedState.TIME_CONSTRAINED;
+      timeConstrainedEnabledPending = false;
 
       federateAmbassador.timeConstrainedEnabled(time);
     }
@@ -617,6 +833,7 @@ public class FederateTimeManager
     }
   }
 
+  @SuppressWarnings("unchecked")
   public void timeAdvanceGrant(LogicalTime time, FederateAmbassador federateAmbassador)
     throws FederateInternalError
   {
@@ -638,8 +855,16 @@ public class FederateTimeManager
       }
 
       temporalState = TemporalState.TIME_GRANTED;
+      grantedAdvanceType = advanceRequestType;
       advanceRequestType = TimeAdvanceType.NONE;
 
+      if (distributed)
+      {
+        timeAdvanceGrantPending = false;
+
+        announceLOTS();
+      }
+
       federateAmbassador.timeAdvanceGrant(time);
     }
     finally
@@ -648,6 +873,231 @@ public class FederateTimeManager
     }
   }
 
+  /**
+   * Holds a time stamp ordered callback under distributed time management until a time advance grant passes its time.
+   * <p/>
+   * A message is never below the LOTS its producer announced before sending it, and the announcement reaches the
+   * federate after the message since both travel the producer's channel to the RTI and the federate's channel from the
+   * RTI, each in order. A message below the GALT means that order was broken and the federate may already have been
+   * granted past the message.
+   * <p/>
+   * An optimistic federate may already have been granted past a message at or above the GALT, it is then rolled back
+   * to receive the message in order.
+   */
+  @SuppressWarnings("unchecked")
+  public void timeStampOrderedCallbackReceived(
+    LogicalTime time, MessageRetractionHandle messageRetractionHandle, Callback callback)
+  {
+    timeLock.writeLock().lock();
+    try
+    {
+      LogicalTime galt = timeRegulatingFederateLOTS.peekValue();
+      if (galt != null && time.compareTo(galt) < 0)
+      {
+        log.error(LogMessages.TIME_STAMP_ORDERED_MESSAGE_BELOW_GALT, time, galt);
+      }
+
+      if (isOptimistic() && optimisticGrantTime != null)
+      {
+        int compareTo = time.compareTo(optimisticGrantTime);
+        if (compareTo < 0 || (compareTo == 0 && optimisticGrantType != TimeAdvanceType.TIME_ADVANCE_REQUEST_AVAILABLE &&
+                              optimisticGrantType != TimeAdvanceType.NEXT_MESSAGE_REQUEST_AVAILABLE))
+        {
+          Checkpoint checkpoint = getRollbackCheckpoint(time);
+          if (checkpoint != null)
+          {
+            rollback(checkpoint, time);
+          }
+        }
+      }
+
+      hold(time, messageRetractionHandle, callback);
+    }
+    finally
+    {
+      timeLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Drops a held time stamp ordered callback that was retracted before a time advance grant passed it.
+   *
+   * @return {@code true} if the callback was still held and the federate never saw it
+   */
+  public boolean retract(MessageRetractionHandle messageRetractionHandle)
+  {
+    boolean retracted;
+
+    timeLock.writeLock().lock();
+    try
+    {
+      LogicalTime time = timeStampOrderedCallbackTimes.remove(messageRetractionHandle);
+      if (retracted = time != null)
+      {
+        Map<MessageRetractionHandle, Callback> callbacks = timeStampOrderedCallbacks.get(time);
+        callbacks.remove(messageRetractionHandle);
+        if (callbacks.isEmpty())
+        {
+          timeStampOrderedCallbacks.remove(time);
+        }
+
+        // the next message might be later now
+        //
+        announceLOTS();
+      }
+    }
+    finally
+    {
+      timeLock.writeLock().unlock();
+    }
+
+    return retracted;
+  }
+
+  /**
+   * Rolls an optimistic federate back past a time stamp ordered callback it already received, which has been
+   * retracted, so it is never received again.
+   *
+   * @return {@code true} if the federate will be rolled back past the callback
+   */
+  @SuppressWarnings("unchecked")
+  public boolean retractDelivered(MessageRetractionHandle messageRetractionHandle)
+  {
+    boolean retracted = false;
+
+    timeLock.writeLock().lock();
+    try
+    {
+      if (isOptimistic())
+      {
+        for (Iterator<Checkpoint> i = checkpoints.descendingIterator(); i.hasNext() && !retracted;)
+        {
+          Checkpoint checkpoint = i.next();
+
+          LogicalTime time = checkpoint.deliveredCallbackTimes.remove(messageRetractionHandle);
+          if (time != null)
+          {
+            Map<MessageRetractionHandle, Callback> callbacks = checkpoint.deliveredCallbacks.get(time);
+            callbacks.remove(messageRetractionHandle);
+            if (callbacks.isEmpty())
+            {
+              checkpoint.deliveredCallbacks.remove(time);
+            }
+
+            // a flush queue request delivers past its grant, the federate is not rolled back past such a callback and
+            // is told of the retraction instead
+            //
+            Checkpoint rollbackCheckpoint = getRollbackCheckpoint(time);
+            if (retracted = rollbackCheckpoint != null &&
+                            checkpoints.indexOf(rollbackCheckpoint) <= checkpoints.indexOf(checkpoint))
+            {
+              rollback(rollbackCheckpoint, time);
+            }
+          }
+        }
+      }
+    }
+    finally
+    {
+      timeLock.writeLock().unlock();
+    }
+
+    return retracted;
+  }
+
+  /**
+   * Records a time stamp ordered message an optimistic federate sent, a rollback past it retracts it. Called holding
+   * the read lock of the time lock.
+   */
+  public void timeStampOrderedMessageSent(MessageRetractionHandle messageRetractionHandle)
+  {
+    if (!checkpoints.isEmpty())
+    {
+      checkpoints.getLast().sentMessageRetractionHandles.add(messageRetractionHandle);
+    }
+  }
+
+  /**
+   * Applies the LOTS relayed by the RTI under distributed time management, which may let the federate become time
+   * constrained or grant its pending time advance.
+   */
+  @SuppressWarnings("unchecked")
+  public void lotsUpdated(LOTSUpdated lotsUpdated)
+  {
+    timeLock.writeLock().lock();
+    try
+    {
+      if (lotsUpdated.isSnapshot())
+      {
+        timeRegulatingFederateLOTS.clear();
+      }
+
+      for (Map.Entry<FederateHandle, LogicalTime> entry : lotsUpdated.getLOTS().entrySet())
+      {
+        if (entry.getValue() == null)
+        {
+          timeRegulatingFederateLOTS.remove(entry.getKey());
+        }
+        else
+        {
+          timeRegulatingFederateLOTS.put(entry.getKey(), entry.getValue());
+        }
+      }
+
+      if (lotsUpdated.isAcknowledge())
+      {
+        // a federate is becoming time regulating, it cannot send anything the federate has already been granted
+        //
+        LogicalTime lits;
+        switch (grantedAdvanceType)
+        {
+          case TIME_ADVANCE_REQUEST_AVAILABLE:
+          case NEXT_MESSAGE_REQUEST_AVAILABLE:
+            lits = federateTime;
+            break;
+          default:
+            lits = federateTime.add(epsilon);
+        }
+
+        federate.getRTIChannel().write(
+          new AcknowledgeLOTS(
+            lotsUpdated.getLOTS().keySet().iterator().next(), federate.getLogicalTimeFactory(), lits));
+      }
+
+      if (isOptimistic())
+      {
+        collectFossils();
+
+        // the LOTS of an optimistic federate follows its GALT
+        //
+        announceLOTS();
+      }
+
+      LogicalTime galt = timeRegulatingFederateLOTS.peekValue();
+
+      if (timeConstrainedState == TimeConstrainedState.BECOMING_TIME_CONSTRAINED && !timeConstrainedEnabledPending &&
+          (galt == null || (lotsUpdated.isSnapshot() ? federateTime.compareTo(galt) <= 0 :
+                                                       federateTime.compareTo(galt) < 0)))
+      {
+        timeConstrainedEnabledPending = true;
+
+        new TimeConstrainedEnabled(federate.getLogicalTimeFactory(), federateTime).execute(federate);
+      }
+      else if (isTimeConstrained())
+      {
+        checkDistributedTimeAdvanceGrant();
+      }
+    }
+    catch (IllegalTimeArithmetic | InvalidLogicalTimeInterval e)
+    {
+      log.error(LogMessages.UNABLE_TO_REQUEST_TIME_ADVANCE, e);
+    }
+    finally
+    {
+      timeLock.writeLock().unlock();
+    }
+  }
+
   public void checkIfInTimeAdvancingState()
     throws InTimeAdvancingState
   {
@@ -757,21 +1207,22 @@ public class FederateTimeManager
     timeManagerState.setTimeConstrainedState(
       FederateTimeManagerState.TimeConstrainedState.values()[timeConstrainedState.ordinal()]);
 
-    timeManagerState.setFederateTime(LogicalTimes.convert(federateTime));
+    timeManagerState.setFederateTime(LogicalTimes.convert(federate.getLogicalTimeFactory(), federateTime));
 
     if (lookahead != null)
     {
-      timeManagerState.setLookahead(LogicalTimeIntervals.convert(lookahead));
+      timeManagerState.setLookahead(LogicalTimeIntervals.convert(federate.getLogicalTimeFactory(), lookahead));
     }
 
     if (lots != null)
     {
-      timeManagerState.setLots(LogicalTimes.convert(lots));
+      timeManagerState.setLots(LogicalTimes.convert(federate.getLogicalTimeFactory(), lots));
     }
 
     if (advanceRequestTime != null)
     {
-      timeManagerState.setAdvanceRequestTime(LogicalTimes.convert(advanceRequestTime));
+      timeManagerState.setAdvanceRequestTime(
+        LogicalTimes.convert(federate.getLogicalTimeFactory(), advanceRequestTime));
     }
 
     timeManagerState.setAdvanceRequestType(OHLAProtos.AdvanceRequestType.values()[advanceRequestType.ordinal()]);
@@ -809,6 +1260,357 @@ public class FederateTimeManager
     advanceRequestType = TimeAdvanceType.values()[timeManagerState.getAdvanceRequestType().ordinal()];
   }
 
+  /**
+   * Grants the pending time advance under distributed time management once the GALT of the federate allows it. An
+   * optimistic federate is granted right away, unless it is about to be rolled back.
+   */
+  @SuppressWarnings("unchecked")
+  private void checkDistributedTimeAdvanceGrant()
+  {
+    if (temporalState == TemporalState.TIME_ADVANCING && !timeAdvanceGrantPending && rollbackCheckpoint == null)
+    {
+      LogicalTime galt = isOptimistic() ? null : timeRegulatingFederateLOTS.peekValue();
+      LogicalTime nextMessageTime = min(
+        advanceRequestTime, timeStampOrderedCallbacks.isEmpty() ? null : timeStampOrderedCallbacks.firstKey());
+
+      LogicalTime time = null;
+      if (!isTimeConstrained())
+      {
+        time = advanceRequestTime;
+      }
+      else
+      {
+        switch (advanceRequestType)
+        {
+          case TIME_ADVANCE_REQUEST:
+            if (galt == null || advanceRequestTime.compareTo(galt) < 0)
+            {
+              time = advanceRequestTime;
+            }
+            break;
+          case TIME_ADVANCE_REQUEST_AVAILABLE:
+            if (galt == null || advanceRequestTime.compareTo(galt) <= 0)
+            {
+              time = advanceRequestTime;
+            }
+            break;
+          case NEXT_MESSAGE_REQUEST:
+            if (galt == null || nextMessageTime.compareTo(galt) < 0)
+            {
+              time = nextMessageTime;
+            }
+            break;
+          case NEXT_MESSAGE_REQUEST_AVAILABLE:
+            if (galt == null || nextMessageTime.compareTo(galt) <= 0)
+            {
+              time = nextMessageTime;
+            }
+            break;
+          case FLUSH_QUEUE_REQUEST:
+            time = min(nextMessageTime, galt);
+            break;
+        }
+      }
+
+      // the LOTS follows the request, and the GALT for a next message request, whether or not it is granted yet
+      //
+      announceLOTS();
+
+      if (time != null)
+      {
+        // deliver every time stamp ordered callback up to the granted time ahead of the grant, all of them if flushing
+        //
+        Map<LogicalTime, Map<MessageRetractionHandle, Callback>> deliverableCallbacks =
+          advanceRequestType == TimeAdvanceType.FLUSH_QUEUE_REQUEST ?
+            timeStampOrderedCallbacks : timeStampOrderedCallbacks.headMap(time, true);
+        for (Map.Entry<LogicalTime, Map<MessageRetractionHandle, Callback>> entry : deliverableCallbacks.entrySet())
+        {
+          for (Callback callback : entry.getValue().values())
+          {
+            federate.getCallbackManager().add(callback, false);
+          }
+          timeStampOrderedCallbackTimes.keySet().removeAll(entry.getValue().keySet());
+
+          if (isOptimistic() && !checkpoints.isEmpty())
+          {
+            // received again if the federate is rolled back to the checkpoint of this request
+            //
+            Checkpoint checkpoint = checkpoints.getLast();
+            checkpoint.deliveredCallbacks.put(entry.getKey(), entry.getValue());
+            for (MessageRetractionHandle messageRetractionHandle : entry.getValue().keySet())
+            {
+              checkpoint.deliveredCallbackTimes.put(messageRetractionHandle, entry.getKey());
+            }
+          }
+        }
+        deliverableCallbacks.clear();
+
+        if (isOptimistic())
+        {
+          optimisticGrantTime = time;
+          optimisticGrantType = advanceRequestType;
+        }
+
+        timeAdvanceGrantPending = true;
+
+        new TimeAdvanceGrant(federate.getLogicalTimeFactory(), time).execute(federate);
+      }
+    }
+  }
+
+  /**
+   * Tells the RTI when the LOTS of a time regulating federate advanced under distributed time management. A federate
+   * in a next message or flush queue request can be granted as early as the next message it might receive, so its LOTS
+   * follows its GALT.
+   */
+  @SuppressWarnings("unchecked")
+  private void announceLOTS()
+  {
+    if (isTimeRegulating())
+    {
+      try
+      {
+        LogicalTime lots = this.lots;
+
+        if (temporalState == TemporalState.TIME_ADVANCING && isTimeConstrained())
+        {
+          switch (advanceRequestType)
+          {
+            case NEXT_MESSAGE_REQUEST:
+            case NEXT_MESSAGE_REQUEST_AVAILABLE:
+            case FLUSH_QUEUE_REQUEST:
+              LogicalTime nextMessageTime = min(min(
+                advanceRequestTime, timeStampOrderedCallbacks.isEmpty() ? null : timeStampOrderedCallbacks.firstKey()),
+                timeRegulatingFederateLOTS.peekValue());
+              lots = nextMessageTime.add(
+                advanceRequestType == TimeAdvanceType.NEXT_MESSAGE_REQUEST && lookahead.isZero() ? epsilon : lookahead);
+              break;
+          }
+        }
+
+        if (isOptimistic())
+        {
+          // a straggler or retraction at the GALT, or the one a pending rollback is for, rolls the federate back to
+          // send again from there, and a rollback retracts messages no lower than that
+          //
+          LogicalTime rollbackTime = min(timeRegulatingFederateLOTS.peekValue(), this.rollbackTime);
+          if (rollbackTime != null)
+          {
+            lots = min(lots, rollbackTime.add(lookahead));
+          }
+        }
+
+        if (announcedLOTS == null || lots.compareTo(announcedLOTS) > 0)
+        {
+          announcedLOTS = lots;
+
+          federate.getRTIChannel().write(new UpdateLOTS(federate.getLogicalTimeFactory(), lots));
+        }
+      }
+      catch (IllegalTimeArithmetic | InvalidLogicalTimeInterval e)
+      {
+        log.error(LogMessages.UNABLE_TO_REQUEST_TIME_ADVANCE, e);
+      }
+    }
+  }
+
+  /**
+   * Holds a time stamp ordered callback until a time advance grant passes its time.
+   */
+  private void hold(LogicalTime time, MessageRetractionHandle messageRetractionHandle, Callback callback)
+  {
+    Map<MessageRetractionHandle, Callback> callbacks = timeStampOrderedCallbacks.get(time);
+    if (callbacks == null)
+    {
+      callbacks = new LinkedHashMap<>(2);
+      timeStampOrderedCallbacks.put(time, callbacks);
+    }
+    callbacks.put(messageRetractionHandle, callback);
+    timeStampOrderedCallbackTimes.put(messageRetractionHandle, time);
+  }
+
+  /**
+   * Takes a checkpoint of an optimistic federate as it requests a time advance, before the request changes anything.
+   *
+   * @return the checkpoint, {@code null} if the federate is not optimistic
+   */
+  private Checkpoint takeCheckpoint()
+    throws RTIinternalError
+  {
+    Checkpoint checkpoint = null;
+    if (isOptimistic())
+    {
+      try
+      {
+        checkpoint = new Checkpoint(
+          federateTime, grantedAdvanceType, optimisticFederateAmbassador.saveCheckpoint(federateTime));
+      }
+      catch (FederateInternalError fie)
+      {
+        throw new RTIinternalError(fie.getMessage(), fie);
+      }
+    }
+    return checkpoint;
+  }
+
+  /**
+   * Keeps a checkpoint along with the time advance just requested.
+   */
+  private void addCheckpoint(Checkpoint checkpoint)
+  {
+    if (checkpoint != null)
+    {
+      checkpoint.lots = lots;
+      checkpoint.advanceRequestTime = advanceRequestTime;
+      checkpoint.advanceRequestType = advanceRequestType;
+
+      checkpoints.add(checkpoint);
+
+      collectFossils();
+    }
+  }
+
+  /**
+   * Discards the checkpoints an optimistic federate can no longer be rolled back to. Every straggler and retraction
+   * still to arrive is at or above the GALT, the federate's view of the GVT, so only the last checkpoint below it and
+   * the ones after it are kept, along with a pending rollback's.
+   */
+  @SuppressWarnings("unchecked")
+  private void collectFossils()
+  {
+    LogicalTime galt = timeRegulatingFederateLOTS.peekValue();
+    while (checkpoints.size() > 1 && checkpoints.getFirst() != rollbackCheckpoint &&
+           (galt == null || checkpoints.get(1).federateTime.compareTo(galt) < 0))
+    {
+      checkpoints.removeFirst();
+    }
+  }
+
+  /**
+   * Returns the last checkpoint below a straggler or retracted message, {@code null} if it was already discarded.
+   */
+  @SuppressWarnings("unchecked")
+  private Checkpoint getRollbackCheckpoint(LogicalTime time)
+  {
+    Checkpoint rollbackCheckpoint = null;
+    for (Iterator<Checkpoint> i = checkpoints.descendingIterator(); i.hasNext() && rollbackCheckpoint == null;)
+    {
+      Checkpoint checkpoint = i.next();
+      if (checkpoint.federateTime.compareTo(time) < 0)
+      {
+        rollbackCheckpoint = checkpoint;
+      }
+    }
+    return rollbackCheckpoint;
+  }
+
+  /**
+   * Rolls an optimistic federate back to a checkpoint once it evokes the rollback, no time advance is granted until
+   * then. A rollback still pending goes back to the earlier of the two checkpoints.
+   */
+  @SuppressWarnings("unchecked")
+  private void rollback(Checkpoint checkpoint, LogicalTime time)
+  {
+    if (rollbackCheckpoint == null)
+    {
+      rollbackCheckpoint = checkpoint;
+      rollbackTime = time;
+
+      federate.getCallbackManager().add(new Rollback(), false);
+    }
+    else
+    {
+      if (checkpoints.indexOf(checkpoint) < checkpoints.indexOf(rollbackCheckpoint))
+      {
+        rollbackCheckpoint = checkpoint;
+      }
+      rollbackTime = min(rollbackTime, time);
+    }
+  }
+
+  /**
+   * Rolls an optimistic federate back to the checkpoint of a pending rollback. The callbacks it received since are held
+   * again, the messages it sent since are retracted, and the time advance it requested at the checkpoint is pending
+   * again.
+   */
+  private void rollback()
+    throws FederateInternalError
+  {
+    timeLock.writeLock().lock();
+    try
+    {
+      // time constrained was disabled since
+      //
+      if (rollbackCheckpoint != null)
+      {
+        log.debug(LogMessages.ROLLING_BACK, rollbackCheckpoint.federateTime, rollbackTime);
+
+        for (Iterator<Checkpoint> i = checkpoints.descendingIterator(); i.hasNext();)
+        {
+          Checkpoint checkpoint = i.next();
+
+          for (Map.Entry<LogicalTime, Map<MessageRetractionHandle, Callback>> entry :
+            checkpoint.deliveredCallbacks.entrySet())
+          {
+            for (Map.Entry<MessageRetractionHandle, Callback> callback : entry.getValue().entrySet())
+            {
+              hold(entry.getKey(), callback.getKey(), callback.getValue());
+            }
+          }
+
+          for (MessageRetractionHandle messageRetractionHandle : checkpoint.sentMessageRetractionHandles)
+          {
+            federate.getRTIChannel().write(new Retract(messageRetractionHandle));
+          }
+
+          if (checkpoint == rollbackCheckpoint)
+          {
+            checkpoint.deliveredCallbacks.clear();
+            checkpoint.deliveredCallbackTimes.clear();
+            checkpoint.sentMessageRetractionHandles.clear();
+            break;
+          }
+
+          i.remove();
+        }
+
+        Checkpoint checkpoint = rollbackCheckpoint;
+
+        federateTime = checkpoint.federateTime;
+        grantedAdvanceType = checkpoint.grantedAdvanceType;
+        lots = checkpoint.lots;
+        advanceRequestTime = checkpoint.advanceRequestTime;
+        advanceRequestType = checkpoint.advanceRequestType;
+
+        temporalState = TemporalState.TIME_ADVANCING;
+        timeAdvanceGrantPending = false;
+
+        optimisticGrantTime = checkpoint.federateTime;
+        optimisticGrantType = checkpoint.grantedAdvanceType;
+
+        rollbackCheckpoint = null;
+        rollbackTime = null;
+
+        optimisticFederateAmbassador.rollback(federateTime, checkpoint.state);
+
+        checkDistributedTimeAdvanceGrant();
+      }
+    }
+    finally
+    {
+      timeLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the lesser of two times, either of which may be {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  private LogicalTime min(LogicalTime lhs, LogicalTime rhs)
+  {
+    return lhs == null ? rhs : rhs == null || lhs.compareTo(rhs) <= 0 ? lhs : rhs;
+  }
+
   @SuppressWarnings("unchecked")
   private void checkIfInvalidTimestamp(LogicalTime time)
     throws InvalidLogicalTime
@@ -834,4 +1636,46 @@ public class FederateTimeManager
       }
     }
   }
+
+  /**
+   * The state of an optimistic federate as it requested a time advance.
+   */
+  private static class Checkpoint
+  {
+    private final LogicalTime federateTime;
+    private final TimeAdvanceType grantedAdvanceType;
+    private final byte[] state;
+
+    private LogicalTime lots;
+    private LogicalTime advanceRequestTime;
+    private TimeAdvanceType advanceRequestType;
+
+    /**
+     * The time stamp ordered callbacks delivered for the time advance requested at the checkpoint.
+     */
+    private final TreeMap<LogicalTime, Map<MessageRetractionHandle, Callback>> deliveredCallbacks = new TreeMap<>();
+    private final Map<MessageRetractionHandle, LogicalTime> deliveredCallbackTimes = new HashMap<>();
+
+    /**
+     * The time stamp ordered messages sent since the checkpoint, sent holding only the read lock of the time lock.
+     */
+    private final Queue<MessageRetractionHandle> sentMessageRetractionHandles = new ConcurrentLinkedQueue<>();
+
+    private Checkpoint(LogicalTime federateTime, TimeAdvanceType grantedAdvanceType, byte[] state)
+    {
+      this.federateTime = federateTime;
+      this.grantedAdvanceType = grantedAdvanceType;
+      this.state = state;
+    }
+  }
+
+  private class Rollback
+    implements Callback
+  {
+    public void execute(FederateAmbassador federateAmbassador)
+      throws FederateInternalError
+    {
+      rollback();
+    }
+  }
 }
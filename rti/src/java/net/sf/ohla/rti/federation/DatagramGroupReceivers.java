@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.sf.ohla.rti.federation;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.ohla.rti.messages.DatagramTransport;
+import net.sf.ohla.rti.messages.SendInteraction;
+import net.sf.ohla.rti.messages.UpdateAttributeValues;
+import net.sf.ohla.rti.messages.callbacks.ReceiveInteraction;
+import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValues;
+
+import hla.rti1516e.FederateHandle;
+import hla.rti1516e.OrderType;
+
+/**
+ * Collects the federates that receive a receive order {@code HLAbestEffort} update or interaction untrimmed, so that
+ * it is sent once to the multicast group of its class rather than once to each of them. The message names the
+ * federates it is meant for, the other federates that joined the group drop it.
+ */
+public class DatagramGroupReceivers
+{
+  private final DatagramTransport datagramTransport;
+  private final InetSocketAddress group;
+
+  private final List<FederateProxy> federateProxies = new ArrayList<>();
+
+  public DatagramGroupReceivers(DatagramTransport datagramTransport, InetSocketAddress group)
+  {
+    this.datagramTransport = datagramTransport;
+    this.group = group;
+  }
+
+  public void add(FederateProxy federateProxy)
+  {
+    federateProxies.add(federateProxy);
+  }
+
+  public void reflectAttributeValues(FederateHandle producingFederateHandle, UpdateAttributeValues updateAttributeValues)
+  {
+    if (!federateProxies.isEmpty())
+    {
+      ReflectAttributeValues reflectAttributeValues = new ReflectAttributeValues(
+        updateAttributeValues, null, OrderType.RECEIVE, producingFederateHandle, null);
+      reflectAttributeValues.setReceivingFederateHandles(getFederateHandles());
+
+      if (!datagramTransport.write(reflectAttributeValues, group))
+      {
+        // too large for a datagram
+        //
+        for (FederateProxy federateProxy : federateProxies)
+        {
+          federateProxy.getFederateChannel().write(new ReflectAttributeValues(
+            updateAttributeValues, null, OrderType.RECEIVE, producingFederateHandle, null));
+        }
+      }
+    }
+  }
+
+  public void receiveInteraction(FederateHandle producingFederateHandle, SendInteraction sendInteraction)
+  {
+    if (!federateProxies.isEmpty())
+    {
+      ReceiveInteraction receiveInteraction = new ReceiveInteraction(
+        sendInteraction, null, OrderType.RECEIVE, producingFederateHandle, null);
+      receiveInteraction.setReceivingFederateHandles(getFederateHandles());
+
+      if (!datagramTransport.write(receiveInteraction, group))
+      {
+        // too large for a datagram
+        //
+        for (FederateProxy federateProxy : federateProxies)
+        {
+          federateProxy.getFederateChannel().write(new ReceiveInteraction(
+            sendInteraction, null, OrderType.RECEIVE, producingFederateHandle, null));
+        }
+      }
+    }
+  }
+
+  private List<FederateHandle> getFederateHandles()
+  {
+    List<FederateHandle> federateHandles = new ArrayList<>(federateProxies.size());
+    for (FederateProxy federateProxy : federateProxies)
+    {
+      federateHandles.add(federateProxy.getFederateHandle());
+    }
+    return federateHandles;
+  }
+}
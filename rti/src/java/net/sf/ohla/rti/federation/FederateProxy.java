@@ -19,6 +19,8 @@ package net.sf.ohla.rti.federation;
 import java.io.IOException;
 import java.io.OutputStream;
 
+import java.net.InetSocketAddress;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -30,6 +32,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import net.sf.ohla.rti.RTIChannelHandler;
 import net.sf.ohla.rti.fdd.InteractionClass;
 import net.sf.ohla.rti.fdd.ObjectClass;
+import net.sf.ohla.rti.fdd.TransportationType;
 import net.sf.ohla.rti.federate.TimeAdvanceType;
 import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandleSetFactory;
 import net.sf.ohla.rti.i18n.I18nLogger;
@@ -39,12 +42,17 @@ import net.sf.ohla.rti.messages.FederateSaveBegun;
 import net.sf.ohla.rti.messages.FederateSaveComplete;
 import net.sf.ohla.rti.messages.FederateSaveNotComplete;
 import net.sf.ohla.rti.messages.FederateStateFrame;
+import net.sf.ohla.rti.messages.LOTSUpdated;
+import net.sf.ohla.rti.messages.MessageChannelHandler;
+import net.sf.ohla.rti.messages.MessageEncoder;
+import net.sf.ohla.rti.messages.OrderedWriteHandler;
 import net.sf.ohla.rti.messages.PublishInteractionClass;
 import net.sf.ohla.rti.messages.PublishObjectClassAttributes;
 import net.sf.ohla.rti.messages.QueryInteractionTransportationType;
 import net.sf.ohla.rti.messages.ResignedFederationExecution;
 import net.sf.ohla.rti.messages.Retract;
 import net.sf.ohla.rti.messages.SendInteraction;
+import net.sf.ohla.rti.messages.SentRegionsMessage;
 import net.sf.ohla.rti.messages.SubscribeInteractionClass;
 import net.sf.ohla.rti.messages.SubscribeInteractionClassWithRegions;
 import net.sf.ohla.rti.messages.SubscribeObjectClassAttributes;
@@ -69,11 +77,13 @@ import net.sf.ohla.rti.messages.callbacks.InitiateFederateSave;
 import net.sf.ohla.rti.messages.callbacks.ProvideAttributeValueUpdate;
 import net.sf.ohla.rti.messages.callbacks.ReceiveInteraction;
 import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValues;
+import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValuesBatch;
 import net.sf.ohla.rti.messages.callbacks.RemoveObjectInstance;
 import net.sf.ohla.rti.messages.callbacks.ReportInteractionTransportationType;
 import net.sf.ohla.rti.messages.callbacks.RequestAttributeOwnershipAssumption;
 import net.sf.ohla.rti.messages.callbacks.RequestFederationRestoreFailed;
 import net.sf.ohla.rti.messages.callbacks.RequestFederationRestoreSucceeded;
+import net.sf.ohla.rti.messages.callbacks.RequestRetraction;
 import net.sf.ohla.rti.messages.callbacks.TimeAdvanceGrant;
 import net.sf.ohla.rti.messages.callbacks.TimeConstrainedEnabled;
 import net.sf.ohla.rti.messages.callbacks.TimeRegulationEnabled;
@@ -87,8 +97,11 @@ import net.sf.ohla.rti.util.ObjectClassHandles;
 import net.sf.ohla.rti.util.ObjectInstanceHandles;
 import net.sf.ohla.rti.util.Retractable;
 import net.sf.ohla.rti.util.RetractableManager;
+import net.sf.ohla.rti.util.SentRegionVersions;
 
 import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelFuture;
+import org.jboss.netty.channel.ChannelFutureListener;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
 
@@ -121,6 +134,11 @@ public class FederateProxy
    */
   private final Channel federateChannel;
 
+  /**
+   * The address the Federate receives {@code HLAbestEffort} messages on as datagrams, {@code null} if it does not.
+   */
+  private final InetSocketAddress datagramAddress;
+
   private final FederateProxyTimeStampOrderedMessageQueue federateProxyTimeStampOrderedMessageQueue;
 
   private FederateProxySave federateProxySave;
@@ -138,7 +156,37 @@ public class FederateProxy
   private final Map<InteractionClassHandle, TransportationTypeHandle> interactionClassTransportationTypeHandles =
     new HashMap<>();
 
-  private final RetractableManager<Retractable> retractableManager = new RetractableManager<>();
+  private final RetractableManager<Retractable> retractableManager;
+
+  /**
+   * The versions of the regions whose extents have been sent to the federate, also guards writing the messages that
+   * carry sent regions so the versions are recorded in the order the federate receives them.
+   */
+  private final SentRegionVersions sentRegionVersions = new SentRegionVersions();
+
+  /**
+   * Resets the sent region versions when a message that might carry the extents of a region does not reach the
+   * federate, because the outbound queue failed to spill it or disconnected the federate.
+   */
+  private final ChannelFutureListener sentRegionsWritten = new ChannelFutureListener()
+  {
+    public void operationComplete(ChannelFuture future)
+    {
+      if (!future.isSuccess())
+      {
+        synchronized (sentRegionVersions)
+        {
+          sentRegionVersions.reset();
+        }
+      }
+    }
+  };
+
+  /**
+   * Set if time stamp ordered messages are forwarded to the federate as they arrive, the federate holds them until it
+   * grants itself a time advance past them.
+   */
+  private final boolean distributedTimeManagement;
 
   private final LogicalTimeInterval zero;
   private final LogicalTimeInterval epsilon;
@@ -163,21 +211,26 @@ public class FederateProxy
 
   private boolean conveyRegionDesignatorSets = true;
 
+  private final FederateProxyOutboundQueue outboundQueue;
+
   private final I18nLogger log;
 
   public FederateProxy(
     FederationExecution federationExecution, FederateHandle federateHandle, String federateName, String federateType,
-    Channel federateChannel, LogicalTime galt)
+    Channel federateChannel, InetSocketAddress datagramAddress, LogicalTime galt)
   {
     this.federationExecution = federationExecution;
     this.federateHandle = federateHandle;
     this.federateName = federateName;
     this.federateType = federateType;
     this.federateChannel = federateChannel;
+    this.datagramAddress = datagramAddress;
     this.galt = galt;
 
     federateProxyTimeStampOrderedMessageQueue =
       new FederateProxyTimeStampOrderedMessageQueue(federationExecution, this);
+    retractableManager = new RetractableManager<>(federationExecution.getTimeManager().getLogicalTimeType());
+    distributedTimeManagement = federationExecution.getTimeManager().isDistributed();
 
     zero = federationExecution.getTimeManager().getLogicalTimeFactory().makeZero();
     epsilon = federationExecution.getTimeManager().getLogicalTimeFactory().makeEpsilon();
@@ -188,6 +241,28 @@ public class FederateProxy
       RTIChannelHandler.NAME, FederateProxyChannelHandler.NAME, new FederateProxyChannelHandler(this));
 
     Marker marker = MarkerFactory.getMarker(federationExecution.getName() + "." + this.federateName);
+
+    // the outbound queue stays with the channel after resigning so nothing queued is lost or reordered
+    //
+    FederateProxyOutboundQueue outboundQueue =
+      (FederateProxyOutboundQueue) federateChannel.getPipeline().get(FederateProxyOutboundQueue.NAME);
+    if (outboundQueue == null)
+    {
+      outboundQueue = new FederateProxyOutboundQueue(marker);
+
+      // messages are queued before they are encoded, an embedded federate is passed them without them being encoded
+      //
+      String baseName = federateChannel.getPipeline().get(MessageEncoder.NAME) == null ?
+        OrderedWriteHandler.NAME : MessageEncoder.NAME;
+      federateChannel.getPipeline().addAfter(baseName, FederateProxyOutboundQueue.NAME, outboundQueue);
+    }
+    this.outboundQueue = outboundQueue;
+
+    // deliver the federate's messages on the federation execution's threads
+    //
+    ((MessageChannelHandler) federateChannel.getPipeline().get(MessageChannelHandler.NAME)).setExecutor(
+      federationExecution.getExecutor());
+
     log = I18nLogger.getLogger(marker, FederateProxy.class);
 
     log.debug(LogMessages.FEDERATE_JOINED);
@@ -218,6 +293,16 @@ public class FederateProxy
     return federateChannel;
   }
 
+  public InetSocketAddress getDatagramAddress()
+  {
+    return datagramAddress;
+  }
+
+  public FederateProxyOutboundQueue getOutboundQueue()
+  {
+    return outboundQueue;
+  }
+
   public Map<ObjectClassHandle, AttributeHandleSet> getPublishedObjectClasses()
   {
     return publishedObjectClasses;
@@ -294,6 +379,11 @@ public class FederateProxy
     return federateProxyTimeStampOrderedMessageQueue.lits();
   }
 
+  public void invalidateLITS()
+  {
+    federateProxyTimeStampOrderedMessageQueue.invalidateLITS();
+  }
+
   public LogicalTime getLITSOrGALT()
   {
     LogicalTime lits = federateProxyTimeStampOrderedMessageQueue.lits();
@@ -367,6 +457,8 @@ public class FederateProxy
   {
     federateChannel.getPipeline().remove(FederateProxyChannelHandler.NAME);
 
+    ((MessageChannelHandler) federateChannel.getPipeline().get(MessageChannelHandler.NAME)).setExecutor(null);
+
     log.debug(LogMessages.FEDERATE_RESIGNED, resignAction);
 
     federateChannel.write(new ResignedFederationExecution());
@@ -382,7 +474,11 @@ public class FederateProxy
   {
     federateProxySave = federationExecutionSave.instructedToSave(this);
 
-    federateChannel.write(new InitiateFederateSave(federationExecutionSave.getLabel()));
+    federateChannel.write(federationExecutionSave.getSaveTime() == null ?
+      new InitiateFederateSave(federationExecutionSave.getLabel()) :
+      new InitiateFederateSave(
+        federationExecutionSave.getLabel(), federationExecution.getLogicalTimeFactory(),
+        federationExecutionSave.getSaveTime()));
   }
 
   public void federateSaveInitiatedFailed()
@@ -474,6 +570,8 @@ public class FederateProxy
 
     if (discoveredObjects.add(objectInstance.getObjectInstanceHandle()))
     {
+      federateProxyTimeStampOrderedMessageQueue.invalidateLITS(objectInstance.getObjectInstanceHandle());
+
       federateChannel.write(new DiscoverObjectInstance(
         objectInstance.getObjectInstanceHandle(), objectInstance.getObjectClass().getObjectClassHandle(),
         objectInstance.getObjectInstanceName(), objectInstance.getProducingFederateHandle()));
@@ -490,6 +588,8 @@ public class FederateProxy
       {
         discoveredObjects.add(discoverObjectInstance.getObjectInstanceHandle());
 
+        federateProxyTimeStampOrderedMessageQueue.invalidateLITS(discoverObjectInstance.getObjectInstanceHandle());
+
         federateChannel.write(discoverObjectInstance);
       }
     }
@@ -499,23 +599,47 @@ public class FederateProxy
     }
   }
 
+  /**
+   * Reflects the specified update, deferring a receive order {@code HLAbestEffort} reflection to the multicast group of
+   * the object class if there is one.
+   *
+   * @param groupReceivers the multicast group receivers of the update, or {@code null} if there is no group
+   * @param reflectAttributeValuesBatches the batches a reliable receive order reflection is added to, or {@code null}
+   *                                      if it is to be sent right away
+   */
   public void reflectAttributeValues(
     FederateHandle producingFederateHandle, UpdateAttributeValues updateAttributeValues,
-    FederationExecutionObjectInstance objectInstance)
+    FederationExecutionObjectInstance objectInstance, DatagramGroupReceivers groupReceivers,
+    Map<FederateProxy, ReflectAttributeValuesBatch> reflectAttributeValuesBatches)
   {
     if (updateAttributeValues.getSentOrderType() == OrderType.TIMESTAMP && isTimeConstrainedEnabled() &&
-        queueTimeStampOrderedMessage(updateAttributeValues.getTime(federationExecution.getTimeManager().getLogicalTimeFactory())))
+        !distributedTimeManagement)
     {
       // might not be subscribed until later, must save it
       //
       federateProxyTimeStampOrderedMessageQueue.add(producingFederateHandle, updateAttributeValues);
     }
+    else if (updateAttributeValues.getSentOrderType() == OrderType.TIMESTAMP && isTimeConstrainedEnabled())
+    {
+      subscriptionLock.readLock().lock();
+      try
+      {
+        reflectAttributeValuesNow(
+          producingFederateHandle, updateAttributeValues, OrderType.TIMESTAMP, objectInstance, null, null);
+      }
+      finally
+      {
+        subscriptionLock.readLock().unlock();
+      }
+    }
     else
     {
       subscriptionLock.readLock().lock();
       try
       {
-        reflectAttributeValuesNow(producingFederateHandle, updateAttributeValues, OrderType.RECEIVE, objectInstance);
+        reflectAttributeValuesNow(
+          producingFederateHandle, updateAttributeValues, OrderType.RECEIVE, objectInstance, groupReceivers,
+          reflectAttributeValuesBatches);
       }
       finally
       {
@@ -527,6 +651,15 @@ public class FederateProxy
   public boolean reflectAttributeValuesNow(
     FederateHandle producingFederateHandle, UpdateAttributeValues updateAttributeValues,
     OrderType orderType, FederationExecutionObjectInstance objectInstance)
+  {
+    return reflectAttributeValuesNow(
+      producingFederateHandle, updateAttributeValues, orderType, objectInstance, null, null);
+  }
+
+  private boolean reflectAttributeValuesNow(
+    FederateHandle producingFederateHandle, UpdateAttributeValues updateAttributeValues,
+    OrderType orderType, FederationExecutionObjectInstance objectInstance, DatagramGroupReceivers groupReceivers,
+    Map<FederateProxy, ReflectAttributeValuesBatch> reflectAttributeValuesBatches)
   {
     boolean delivered;
 
@@ -545,7 +678,27 @@ public class FederateProxy
       // - the update is still subscribed to
       // - was sent receive order or was not already sent
 
-      federateChannel.write(reflectAttributeValues);
+      if (orderType == OrderType.RECEIVE && isBestEffort(updateAttributeValues.getTransportationTypeHandle()))
+      {
+        writeBestEffort(
+          reflectAttributeValues,
+          reflectAttributeValues.hasSharedPayload() && !reflectAttributeValues.hasSentRegions(),
+          groupReceivers);
+      }
+      else if (reflectAttributeValuesBatches != null && orderType == OrderType.RECEIVE)
+      {
+        ReflectAttributeValuesBatch reflectAttributeValuesBatch = reflectAttributeValuesBatches.get(this);
+        if (reflectAttributeValuesBatch == null)
+        {
+          reflectAttributeValuesBatch = new ReflectAttributeValuesBatch();
+          reflectAttributeValuesBatches.put(this, reflectAttributeValuesBatch);
+        }
+        reflectAttributeValuesBatch.add(reflectAttributeValues);
+      }
+      else
+      {
+        writeSentRegions(reflectAttributeValues);
+      }
 
       delivered = true;
     }
@@ -556,6 +709,82 @@ public class FederateProxy
     return delivered;
   }
 
+  /**
+   * Sends the reliable reflections of an {@code UpdateAttributeValuesBatch}. A single reflection is sent on its own so
+   * it can still share its attribute values and be conflated while it is queued.
+   */
+  public void reflectAttributeValues(ReflectAttributeValuesBatch reflectAttributeValuesBatch)
+  {
+    if (reflectAttributeValuesBatch.getReflectAttributeValues().size() == 1)
+    {
+      writeSentRegions(reflectAttributeValuesBatch.getReflectAttributeValues().get(0));
+    }
+    else
+    {
+      writeSentRegions(reflectAttributeValuesBatch);
+    }
+  }
+
+  private boolean isBestEffort(TransportationTypeHandle transportationTypeHandle)
+  {
+    return TransportationType.HLA_BEST_EFFORT.getTransportationTypeHandle().equals(transportationTypeHandle);
+  }
+
+  /**
+   * Sends a receive order {@code HLAbestEffort} message as a datagram if the Federate receives datagrams, otherwise
+   * reliably. A message shared by every receiver is left to the multicast group if there is one.
+   */
+  private void writeBestEffort(
+    SentRegionsMessage<?, ?> message, boolean shared, DatagramGroupReceivers groupReceivers)
+  {
+    if (datagramAddress == null)
+    {
+      writeSentRegions(message);
+    }
+    else if (shared && groupReceivers != null)
+    {
+      groupReceivers.add(this);
+    }
+    else
+    {
+      if (message.hasSentRegions())
+      {
+        synchronized (sentRegionVersions)
+        {
+          message.encodeSentRegions(sentRegionVersions);
+        }
+      }
+
+      if (!federationExecution.getDatagramTransport().write(message, datagramAddress))
+      {
+        // too large for a datagram
+        //
+        federateChannel.write(message);
+      }
+    }
+  }
+
+  /**
+   * Writes a message that might carry sent regions to the federate. The extents of a region are only encoded if the
+   * federate was not already sent them, so the messages must reach the channel in the order they are encoded.
+   */
+  private void writeSentRegions(SentRegionsMessage<?, ?> message)
+  {
+    if (message.hasSentRegions())
+    {
+      synchronized (sentRegionVersions)
+      {
+        message.encodeSentRegions(sentRegionVersions);
+
+        federateChannel.write(message).addListener(sentRegionsWritten);
+      }
+    }
+    else
+    {
+      federateChannel.write(message);
+    }
+  }
+
   public boolean wouldReflectAttributeValues(UpdateAttributeValues updateAttributeValues)
   {
     FederationExecutionObjectInstance federationExecutionObjectInstance =
@@ -567,21 +796,40 @@ public class FederateProxy
             !retractableManager.contains(updateAttributeValues.getMessageRetractionHandle()));
   }
 
-  public void receiveInteraction(FederateHandle producingFederateHandle, SendInteraction sendInteraction)
+  /**
+   * Receives the specified interaction, deferring a receive order {@code HLAbestEffort} interaction to the multicast
+   * group of the interaction class if there is one.
+   *
+   * @param groupReceivers the multicast group receivers of the interaction, or {@code null} if there is no group
+   */
+  public void receiveInteraction(
+    FederateHandle producingFederateHandle, SendInteraction sendInteraction, DatagramGroupReceivers groupReceivers)
   {
     if (sendInteraction.getSentOrderType() == OrderType.TIMESTAMP && isTimeConstrainedEnabled() &&
-        queueTimeStampOrderedMessage(sendInteraction.getTime(federationExecution.getTimeManager().getLogicalTimeFactory())))
+        !distributedTimeManagement)
     {
       // might not be subscribed until later, must save it
       //
       federateProxyTimeStampOrderedMessageQueue.add(producingFederateHandle, sendInteraction);
     }
+    else if (sendInteraction.getSentOrderType() == OrderType.TIMESTAMP && isTimeConstrainedEnabled())
+    {
+      subscriptionLock.readLock().lock();
+      try
+      {
+        receiveInteractionNow(producingFederateHandle, sendInteraction, OrderType.TIMESTAMP, null);
+      }
+      finally
+      {
+        subscriptionLock.readLock().unlock();
+      }
+    }
     else
     {
       subscriptionLock.readLock().lock();
       try
       {
-        receiveInteractionNow(producingFederateHandle, sendInteraction, OrderType.RECEIVE);
+        receiveInteractionNow(producingFederateHandle, sendInteraction, OrderType.RECEIVE, groupReceivers);
       }
       finally
       {
@@ -592,6 +840,13 @@ public class FederateProxy
 
   public boolean receiveInteractionNow(
     FederateHandle producingFederateHandle, SendInteraction sendInteraction, OrderType receivedOrderType)
+  {
+    return receiveInteractionNow(producingFederateHandle, sendInteraction, receivedOrderType, null);
+  }
+
+  private boolean receiveInteractionNow(
+    FederateHandle producingFederateHandle, SendInteraction sendInteraction, OrderType receivedOrderType,
+    DatagramGroupReceivers groupReceivers)
   {
     boolean delivered;
 
@@ -610,7 +865,16 @@ public class FederateProxy
       // - the interaction is still subscribed to
       // - was sent receive order or was not already sent
 
-      federateChannel.write(receiveInteraction);
+      if (receivedOrderType == OrderType.RECEIVE && isBestEffort(sendInteraction.getTransportationTypeHandle()))
+      {
+        writeBestEffort(
+          receiveInteraction, receiveInteraction.hasSharedPayload() && !receiveInteraction.hasSentRegions(),
+          groupReceivers);
+      }
+      else
+      {
+        writeSentRegions(receiveInteraction);
+      }
 
       delivered = true;
     }
@@ -639,10 +903,14 @@ public class FederateProxy
   public void removeObjectInstance(FederateHandle producingFederateHandle, DeleteObjectInstance deleteObjectInstance)
   {
     if (deleteObjectInstance.getSentOrderType() == OrderType.TIMESTAMP && isTimeConstrainedEnabled() &&
-        queueTimeStampOrderedMessage(deleteObjectInstance.getTime(federationExecution.getTimeManager().getLogicalTimeFactory())))
+        !distributedTimeManagement)
     {
       federateProxyTimeStampOrderedMessageQueue.add(producingFederateHandle, deleteObjectInstance);
     }
+    else if (deleteObjectInstance.getSentOrderType() == OrderType.TIMESTAMP && isTimeConstrainedEnabled())
+    {
+      removeObjectInstanceNow(producingFederateHandle, deleteObjectInstance, OrderType.TIMESTAMP);
+    }
     else if (discoveredObjects.contains(deleteObjectInstance.getObjectInstanceHandle()))
     {
       removeObjectInstanceNow(producingFederateHandle, deleteObjectInstance, OrderType.RECEIVE);
@@ -671,6 +939,8 @@ public class FederateProxy
       // - the object is still discovered
       // - was sent receive order or was not already sent
 
+      federateProxyTimeStampOrderedMessageQueue.invalidateLITS(deleteObjectInstance.getObjectInstanceHandle());
+
       federateChannel.write(new RemoveObjectInstance(
         deleteObjectInstance.getBuilder(), receivedOrderType, producingFederateHandle));
 
@@ -690,11 +960,13 @@ public class FederateProxy
 
   public void retract(Retract retract)
   {
-    if (!federateProxyTimeStampOrderedMessageQueue.retract(retract.getMessageRetractionHandle()))
+    if (!federateProxyTimeStampOrderedMessageQueue.retract(retract.getMessageRetractionHandle()) &&
+        retractableManager.retract(retract.getMessageRetractionHandle()) && isTimeConstrainedEnabled())
     {
-      // forward the retract because the message could have already been delivered
+      // the message was already delivered time stamp ordered ahead of the GALT, by a flush queue request or under
+      // distributed time management, so the federate has to undo it
       //
-      federateChannel.write(retract);
+      federateChannel.write(new RequestRetraction(retract.getMessageRetractionHandle()));
     }
   }
 
@@ -844,6 +1116,11 @@ public class FederateProxy
       subscriptionManager.subscribeObjectClassAttributes(
         federationExecution.getFDD().getObjectClassSafely(subscribeObjectClassAttributes.getObjectClassHandle()),
         subscribeObjectClassAttributes.getAttributeHandles(), subscribeObjectClassAttributes.isPassive());
+
+      federationExecution.getRoutingTable().objectClassSubscriptionChanged(
+        this, subscribeObjectClassAttributes.getObjectClassHandle());
+
+      federateProxyTimeStampOrderedMessageQueue.invalidateLITS(subscribeObjectClassAttributes.getObjectClassHandle());
     }
     finally
     {
@@ -859,6 +1136,11 @@ public class FederateProxy
       subscriptionManager.unsubscribeObjectClassAttributes(
         unsubscribeObjectClassAttributes.getObjectClassHandle(),
         unsubscribeObjectClassAttributes.getAttributeHandles());
+
+      federationExecution.getRoutingTable().objectClassSubscriptionChanged(
+        this, unsubscribeObjectClassAttributes.getObjectClassHandle());
+
+      federateProxyTimeStampOrderedMessageQueue.invalidateLITS(unsubscribeObjectClassAttributes.getObjectClassHandle());
     }
     finally
     {
@@ -877,6 +1159,12 @@ public class FederateProxy
           subscribeObjectClassAttributesWithRegions.getObjectClassHandle()),
         subscribeObjectClassAttributesWithRegions.getAttributesAndRegions(),
         subscribeObjectClassAttributesWithRegions.isPassive());
+
+      federationExecution.getRoutingTable().objectClassSubscriptionChanged(
+        this, subscribeObjectClassAttributesWithRegions.getObjectClassHandle());
+
+      federateProxyTimeStampOrderedMessageQueue.invalidateLITS(
+        subscribeObjectClassAttributesWithRegions.getObjectClassHandle());
     }
     finally
     {
@@ -893,6 +1181,12 @@ public class FederateProxy
       subscriptionManager.unsubscribeObjectClassAttributes(
         unsubscribeObjectClassAttributesWithRegions.getObjectClassHandle(),
         unsubscribeObjectClassAttributesWithRegions.getAttributesAndRegions());
+
+      federationExecution.getRoutingTable().objectClassSubscriptionChanged(
+        this, unsubscribeObjectClassAttributesWithRegions.getObjectClassHandle());
+
+      federateProxyTimeStampOrderedMessageQueue.invalidateLITS(
+        unsubscribeObjectClassAttributesWithRegions.getObjectClassHandle());
     }
     finally
     {
@@ -908,6 +1202,11 @@ public class FederateProxy
       subscriptionManager.subscribeInteractionClass(
         federationExecution.getFDD().getInteractionClassSafely(subscribeInteractionClass.getInteractionClassHandle()),
         subscribeInteractionClass.isPassive());
+
+      federationExecution.getRoutingTable().interactionClassSubscriptionChanged(
+        this, subscribeInteractionClass.getInteractionClassHandle());
+
+      federateProxyTimeStampOrderedMessageQueue.invalidateLITS(subscribeInteractionClass.getInteractionClassHandle());
     }
     finally
     {
@@ -921,6 +1220,11 @@ public class FederateProxy
     try
     {
       subscriptionManager.unsubscribeInteractionClass(unsubscribeInteractionClass.getInteractionClassHandle());
+
+      federationExecution.getRoutingTable().interactionClassSubscriptionChanged(
+        this, unsubscribeInteractionClass.getInteractionClassHandle());
+
+      federateProxyTimeStampOrderedMessageQueue.invalidateLITS(unsubscribeInteractionClass.getInteractionClassHandle());
     }
     finally
     {
@@ -938,6 +1242,12 @@ public class FederateProxy
         federationExecution.getFDD().getInteractionClassSafely(
           subscribeInteractionClassWithRegions.getInteractionClassHandle()),
         subscribeInteractionClassWithRegions.getRegionHandles(), subscribeInteractionClassWithRegions.isPassive());
+
+      federationExecution.getRoutingTable().interactionClassSubscriptionChanged(
+        this, subscribeInteractionClassWithRegions.getInteractionClassHandle());
+
+      federateProxyTimeStampOrderedMessageQueue.invalidateLITS(
+        subscribeInteractionClassWithRegions.getInteractionClassHandle());
     }
     finally
     {
@@ -954,6 +1264,12 @@ public class FederateProxy
       subscriptionManager.unsubscribeInteractionClass(
         unsubscribeInteractionClassWithRegions.getInteractionClassHandle(),
         unsubscribeInteractionClassWithRegions.getRegionHandles());
+
+      federationExecution.getRoutingTable().interactionClassSubscriptionChanged(
+        this, unsubscribeInteractionClassWithRegions.getInteractionClassHandle());
+
+      federateProxyTimeStampOrderedMessageQueue.invalidateLITS(
+        unsubscribeInteractionClassWithRegions.getInteractionClassHandle());
     }
     finally
     {
@@ -978,7 +1294,7 @@ public class FederateProxy
 
     log.debug(LogMessages.TIME_REGULATION_ENABLED, federateTime);
 
-    federateChannel.write(new TimeRegulationEnabled(federateTime));
+    federateChannel.write(new TimeRegulationEnabled(federationExecution.getLogicalTimeFactory(), federateTime));
   }
 
   public void disableTimeRegulation()
@@ -1015,9 +1331,11 @@ public class FederateProxy
 
       timeConstrainedEnabled = true;
 
+      federationExecution.getRoutingTable().timeConstrainedChanged(this);
+
       log.debug(LogMessages.TIME_CONSTRAINED_ENABLED, federateTime);
 
-      federateChannel.write(new TimeConstrainedEnabled(federateTime));
+      federateChannel.write(new TimeConstrainedEnabled(federationExecution.getLogicalTimeFactory(), federateTime));
     }
     else
     {
@@ -1027,10 +1345,29 @@ public class FederateProxy
     }
   }
 
+  /**
+   * Starts forwarding time stamp ordered messages to the federate under distributed time management, the federate
+   * becomes time constrained by itself once the LOTS of the time regulating federates allows it.
+   *
+   * @param lotsUpdated the LOTS of every time regulating federate
+   */
+  public void enableDistributedTimeConstrained(LOTSUpdated lotsUpdated)
+  {
+    timeConstrainedEnabled = true;
+
+    federationExecution.getRoutingTable().timeConstrainedChanged(this);
+
+    log.debug(LogMessages.ENABLE_TIME_CONSTRAINED_PENDING);
+
+    federateChannel.write(lotsUpdated);
+  }
+
   public void disableTimeConstrained()
   {
     timeConstrainedEnabled = false;
 
+    federationExecution.getRoutingTable().timeConstrainedChanged(this);
+
     log.debug(LogMessages.TIME_CONSTRAINED_DISABLED);
   }
 
@@ -1253,9 +1590,11 @@ public class FederateProxy
       timeConstrainedPending = false;
       timeConstrainedEnabled = true;
 
+      federationExecution.getRoutingTable().timeConstrainedChanged(this);
+
       log.debug(LogMessages.TIME_CONSTRAINED_ENABLED, federateTime);
 
-      federateChannel.write(new TimeConstrainedEnabled(federateTime));
+      federateChannel.write(new TimeConstrainedEnabled(federationExecution.getLogicalTimeFactory(), federateTime));
     }
     else if (advanceRequestTime != null)
     {
@@ -1321,6 +1660,26 @@ public class FederateProxy
     }
   }
 
+  /**
+   * Expires the messages that can no longer be retracted under distributed time management, where the GALT of the
+   * federate is only known to the federate.
+   *
+   * @param galt the federation-wide GALT, which is never past the GALT of the federate
+   */
+  public void expireRetractables(LogicalTime galt)
+  {
+    if (federationExecution.getTimeManager().isOptimistic())
+    {
+      // a rolled back federate may retract a message at the GVT
+      //
+      retractableManager.expireBefore(galt);
+    }
+    else
+    {
+      retractableManager.expire(galt);
+    }
+  }
+
   public void galtUndefined()
   {
     galt = null;
@@ -1456,6 +1815,13 @@ public class FederateProxy
 
     subscriptionManager.restoreState(federationExecution.getFDD(), in);
     federateProxyTimeStampOrderedMessageQueue.restoreState(in);
+
+    // the regions are restored with the extents they were saved with
+    //
+    synchronized (sentRegionVersions)
+    {
+      sentRegionVersions.reset();
+    }
   }
 
   @Override
@@ -1489,10 +1855,12 @@ public class FederateProxy
     federateProxyState.setTimeRegulationEnabled(timeRegulationEnabled);
     if (timeRegulationEnabled)
     {
-      federateProxyState.setLookahead(LogicalTimeIntervals.convert(lookahead));
+      federateProxyState.setLookahead(
+        LogicalTimeIntervals.convert(federationExecution.getTimeManager().getLogicalTimeFactory(), lookahead));
 
       assert lots != null;
-      federateProxyState.setLots(LogicalTimes.convert(lots));
+      federateProxyState.setLots(
+        LogicalTimes.convert(federationExecution.getTimeManager().getLogicalTimeFactory(), lots));
     }
 
     federateProxyState.setTimeConstrainedEnabled(timeConstrainedEnabled);
@@ -1502,16 +1870,19 @@ public class FederateProxy
     {
       if (advanceRequestTime != null)
       {
-        federateProxyState.setAdvanceRequestTime(LogicalTimes.convert(advanceRequestTime));
+        federateProxyState.setAdvanceRequestTime(
+          LogicalTimes.convert(federationExecution.getTimeManager().getLogicalTimeFactory(), advanceRequestTime));
       }
     }
 
     if (galt != null)
     {
-      federateProxyState.setGalt(LogicalTimes.convert(galt));
+      federateProxyState.setGalt(
+        LogicalTimes.convert(federationExecution.getTimeManager().getLogicalTimeFactory(), galt));
     }
 
-    federateProxyState.setFederateTime(LogicalTimes.convert(federateTime));
+    federateProxyState.setFederateTime(
+      LogicalTimes.convert(federationExecution.getTimeManager().getLogicalTimeFactory(), federateTime));
 
     federateProxyState.setDiscoveredObjectInstanceHandleCount(discoveredObjects.size());
 
@@ -1526,37 +1897,6 @@ public class FederateProxy
     federateProxyTimeStampOrderedMessageQueue.saveState(out);
   }
 
-  @SuppressWarnings("unchecked")
-  private boolean queueTimeStampOrderedMessage(LogicalTime time)
-  {
-    boolean queue;
-    if (advanceRequestTime == null)
-    {
-      // not time advancing
-
-      queue = true;
-    }
-    else
-    {
-      switch (advanceRequestType)
-      {
-        case NEXT_MESSAGE_REQUEST:
-        case NEXT_MESSAGE_REQUEST_AVAILABLE:
-          queue = true;
-          break;
-        case TIME_ADVANCE_REQUEST:
-          queue = time.compareTo(advanceRequestTime) >= 0;
-          break;
-        case TIME_ADVANCE_REQUEST_AVAILABLE:
-          queue = time.compareTo(advanceRequestTime) > 0;
-          break;
-        default:
-          throw new Error();
-      }
-    }
-    return queue;
-  }
-
   @SuppressWarnings("unchecked")
   private void timeAdvanceGrant(LogicalTime time)
   {
@@ -1565,6 +1905,6 @@ public class FederateProxy
     federateTime = time;
     advanceRequestTime = null;
 
-    federateChannel.write(new TimeAdvanceGrant(time));
+    federateChannel.write(new TimeAdvanceGrant(federationExecution.getLogicalTimeFactory(), time));
   }
 }
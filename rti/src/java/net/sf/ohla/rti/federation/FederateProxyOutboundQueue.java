@@ -0,0 +1,874 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.sf.ohla.rti.federation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eTransportationTypeHandle;
+import net.sf.ohla.rti.i18n.I18nLogger;
+import net.sf.ohla.rti.i18n.LogMessages;
+import net.sf.ohla.rti.messages.Message;
+import net.sf.ohla.rti.messages.MessageEncoder;
+import net.sf.ohla.rti.messages.callbacks.ReceiveInteraction;
+import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValues;
+import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValuesBatch;
+import net.sf.ohla.rti.proto.OHLAProtos;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelDownstreamHandler;
+import org.jboss.netty.channel.ChannelEvent;
+import org.jboss.netty.channel.ChannelFuture;
+import org.jboss.netty.channel.ChannelFutureListener;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.ChannelStateEvent;
+import org.jboss.netty.channel.ChannelUpstreamHandler;
+import org.jboss.netty.channel.Channels;
+import org.jboss.netty.channel.MessageEvent;
+import org.slf4j.Marker;
+
+/**
+ * Queues the messages written to a federate that is not keeping up so that nothing writing to the federate ever
+ * waits for it. Messages pass straight through while the federate keeps up. Once the queue reaches its high watermark
+ * the federate is overloaded until the queue drains back to its low watermark, while overloaded {@code HLAbestEffort}
+ * messages are dropped or conflated and reliable messages are spilled to disk or the federate is disconnected. Time
+ * stamp ordered messages are always treated as reliable, whatever their transportation. An embedded federate's
+ * messages are never encoded so they cannot be spilled, an overloaded embedded federate is always disconnected.
+ * <p/>
+ * With {@link #OHLA_RTI_OUTBOUND_QUEUE_CONFLATE_REFLECTIONS_PROPERTY} set, received order reflections of an object
+ * instance that are waiting to be written are merged attribute by attribute, reliable or not, so a federate that falls
+ * behind catches up with only the latest value of each attribute. Time stamp ordered reflections and interactions are
+ * never conflated.
+ */
+public class FederateProxyOutboundQueue
+  implements ChannelUpstreamHandler, ChannelDownstreamHandler
+{
+  public static final String NAME = FederateProxyOutboundQueue.class.getSimpleName();
+
+  /**
+   * The number of queued messages at which a federate becomes overloaded.
+   */
+  public static final String OHLA_RTI_OUTBOUND_QUEUE_HIGH_WATERMARK_PROPERTY =
+    "ohla.rti.federate.outboundQueue.highWatermark";
+
+  /**
+   * The number of queued messages at which a federate is no longer overloaded.
+   */
+  public static final String OHLA_RTI_OUTBOUND_QUEUE_LOW_WATERMARK_PROPERTY =
+    "ohla.rti.federate.outboundQueue.lowWatermark";
+
+  /**
+   * What happens to {@code HLAbestEffort} messages sent to an overloaded federate, one of {@link BestEffortPolicy}.
+   */
+  public static final String OHLA_RTI_OUTBOUND_QUEUE_BEST_EFFORT_POLICY_PROPERTY =
+    "ohla.rti.federate.outboundQueue.bestEffortPolicy";
+
+  /**
+   * What happens to reliable messages sent to an overloaded federate, one of {@link ReliablePolicy}.
+   */
+  public static final String OHLA_RTI_OUTBOUND_QUEUE_RELIABLE_POLICY_PROPERTY =
+    "ohla.rti.federate.outboundQueue.reliablePolicy";
+
+  /**
+   * Set to {@code true} to merge queued received order reflections of the same object instance. Defaults to
+   * {@code false}.
+   */
+  public static final String OHLA_RTI_OUTBOUND_QUEUE_CONFLATE_REFLECTIONS_PROPERTY =
+    "ohla.rti.federate.outboundQueue.conflateReflections";
+
+  /**
+   * The directory reliable messages are spilled to. Defaults to {@code java.io.tmpdir}.
+   */
+  public static final String OHLA_RTI_OUTBOUND_QUEUE_SPILL_DIRECTORY_PROPERTY =
+    "ohla.rti.federate.outboundQueue.spillDirectory";
+
+  public enum BestEffortPolicy
+  {
+    /**
+     * Drop the message.
+     */
+    DROP,
+
+    /**
+     * Replace the queued reflection of the same object instance if the message carries at least the same attributes,
+     * otherwise drop the message. Conflation also applies to reflections queued while the federate is not overloaded.
+     */
+    CONFLATE
+  }
+
+  public enum ReliablePolicy
+  {
+    /**
+     * Encode the message to a spill file, the spill file is written to the federate once the queue has drained.
+     */
+    SPILL,
+
+    /**
+     * Close the federate's channel.
+     */
+    DISCONNECT
+  }
+
+  private static final int DEFAULT_HIGH_WATERMARK = 16 * 1024;
+  private static final int DEFAULT_LOW_WATERMARK = 4 * 1024;
+
+  /**
+   * The most messages handed to the channel but not yet written. The channel's own writability lags behind while
+   * writes are being coalesced so it cannot bound the messages handed to the channel on its own.
+   */
+  private static final int MAX_IN_FLIGHT = 1024;
+
+  /**
+   * The most bytes read back from a spill file in one write.
+   */
+  private static final int SPILL_CHUNK_SIZE = 64 * 1024;
+
+  private static final I18nLogger logger = I18nLogger.getLogger(FederateProxyOutboundQueue.class);
+
+  private static final int defaultHighWatermark;
+  private static final int defaultLowWatermark;
+
+  static
+  {
+    int high = getWatermark(OHLA_RTI_OUTBOUND_QUEUE_HIGH_WATERMARK_PROPERTY, DEFAULT_HIGH_WATERMARK);
+    int low = getWatermark(OHLA_RTI_OUTBOUND_QUEUE_LOW_WATERMARK_PROPERTY, Math.min(DEFAULT_LOW_WATERMARK, high / 2));
+    if (low >= high)
+    {
+      logger.warn(LogMessages.INVALID_OUTBOUND_QUEUE_PROPERTY, OHLA_RTI_OUTBOUND_QUEUE_LOW_WATERMARK_PROPERTY, low);
+
+      low = high / 2;
+    }
+
+    defaultHighWatermark = high;
+    defaultLowWatermark = low;
+  }
+
+  private static final BestEffortPolicy defaultBestEffortPolicy = getPolicy(
+    OHLA_RTI_OUTBOUND_QUEUE_BEST_EFFORT_POLICY_PROPERTY, BestEffortPolicy.class, BestEffortPolicy.CONFLATE);
+
+  private static final ReliablePolicy defaultReliablePolicy = getPolicy(
+    OHLA_RTI_OUTBOUND_QUEUE_RELIABLE_POLICY_PROPERTY, ReliablePolicy.class, ReliablePolicy.SPILL);
+
+  private static final boolean defaultConflateReflections =
+    Boolean.getBoolean(OHLA_RTI_OUTBOUND_QUEUE_CONFLATE_REFLECTIONS_PROPERTY);
+
+  private final ChannelFutureListener writeCompleted = new ChannelFutureListener()
+  {
+    public void operationComplete(ChannelFuture future)
+    {
+      writeCompleted();
+
+      closeIfClosing();
+    }
+  };
+
+  private final Queue<QueuedMessage> queuedMessages = new ArrayDeque<>();
+
+  /**
+   * The most recently queued received order {@code HLAbestEffort} reflection of each object instance, or any received
+   * order reflection when reflections are conflated.
+   */
+  private final Map<OHLAProtos.ObjectInstanceHandle, QueuedMessage> conflatableMessages = new HashMap<>();
+
+  private final int highWatermark;
+  private final int lowWatermark;
+  private final BestEffortPolicy bestEffortPolicy;
+  private final ReliablePolicy reliablePolicy;
+  private final boolean conflateReflections;
+
+  private final I18nLogger log;
+
+  private ChannelHandlerContext context;
+
+  private int inFlight;
+  private boolean draining;
+
+  private boolean overloaded;
+  private boolean spilling;
+  private boolean closed;
+
+  /**
+   * The channel to close once the monitor of this queue has been released, set when the queue gives up on the
+   * federate. Closing it goes down the pipeline, the {@code CoalescingWriteHandler} flushes on the way and completes
+   * write futures while holding its own monitor, the I/O thread takes the two monitors in the other order.
+   */
+  private Channel closing;
+
+  private SpillFile spillFile;
+
+  private long droppedMessages;
+  private long conflatedMessages;
+  private long conflatedAttributeValues;
+  private long spilledMessages;
+
+  /**
+   * Creates a {@code FederateProxyOutboundQueue} configured by the {@code ohla.rti.federate.outboundQueue} system
+   * properties.
+   *
+   * @param marker the federate's marker
+   */
+  public FederateProxyOutboundQueue(Marker marker)
+  {
+    this(marker, defaultHighWatermark, defaultLowWatermark, defaultBestEffortPolicy, defaultReliablePolicy,
+         defaultConflateReflections);
+  }
+
+  /**
+   * Creates a {@code FederateProxyOutboundQueue} with the specified configuration.
+   *
+   * @param marker the federate's marker
+   * @param highWatermark the number of queued messages at which the federate becomes overloaded
+   * @param lowWatermark the number of queued messages at which the federate is no longer overloaded
+   * @param bestEffortPolicy what happens to {@code HLAbestEffort} messages sent to the overloaded federate
+   * @param reliablePolicy what happens to reliable messages sent to the overloaded federate
+   * @param conflateReflections whether queued received order reflections of the same object instance are merged
+   */
+  public FederateProxyOutboundQueue(
+    Marker marker, int highWatermark, int lowWatermark, BestEffortPolicy bestEffortPolicy,
+    ReliablePolicy reliablePolicy, boolean conflateReflections)
+  {
+    assert lowWatermark < highWatermark;
+
+    this.highWatermark = highWatermark;
+    this.lowWatermark = lowWatermark;
+    this.bestEffortPolicy = bestEffortPolicy;
+    this.reliablePolicy = reliablePolicy;
+    this.conflateReflections = conflateReflections;
+
+    log = I18nLogger.getLogger(marker, FederateProxyOutboundQueue.class);
+  }
+
+  public synchronized int getQueuedMessages()
+  {
+    return queuedMessages.size();
+  }
+
+  public synchronized boolean isOverloaded()
+  {
+    return overloaded;
+  }
+
+  public synchronized long getDroppedMessages()
+  {
+    return droppedMessages;
+  }
+
+  public synchronized long getConflatedMessages()
+  {
+    return conflatedMessages;
+  }
+
+  /**
+   * Returns the number of queued attribute values replaced by later values of the same attribute.
+   *
+   * @return the number of queued attribute values replaced by later values of the same attribute
+   */
+  public synchronized long getConflatedAttributeValues()
+  {
+    return conflatedAttributeValues;
+  }
+
+  public synchronized long getSpilledMessages()
+  {
+    return spilledMessages;
+  }
+
+  public void handleUpstream(ChannelHandlerContext context, ChannelEvent event)
+  {
+    if (event instanceof ChannelStateEvent)
+    {
+      ChannelStateEvent channelStateEvent = (ChannelStateEvent) event;
+      switch (channelStateEvent.getState())
+      {
+        case INTEREST_OPS:
+          synchronized (this)
+          {
+            this.context = context;
+
+            drain();
+          }
+
+          closeIfClosing();
+          break;
+        case OPEN:
+          if (Boolean.FALSE.equals(channelStateEvent.getValue()))
+          {
+            channelClosed();
+          }
+          break;
+      }
+    }
+
+    context.sendUpstream(event);
+  }
+
+  public void handleDownstream(ChannelHandlerContext context, ChannelEvent event)
+  {
+    if (event instanceof MessageEvent)
+    {
+      write(context, (MessageEvent) event);
+
+      closeIfClosing();
+    }
+    else
+    {
+      context.sendDownstream(event);
+    }
+  }
+
+  private synchronized void write(ChannelHandlerContext context, MessageEvent event)
+  {
+    this.context = context;
+
+    if (closed)
+    {
+      event.getFuture().setFailure(new ClosedChannelException());
+    }
+    else if (queuedMessages.isEmpty() && !spilling && inFlight < MAX_IN_FLIGHT && context.getChannel().isWritable())
+    {
+      send(event);
+    }
+    else
+    {
+      if (!overloaded && queuedMessages.size() >= highWatermark)
+      {
+        overloaded = true;
+
+        log.warn(LogMessages.FEDERATE_OUTBOUND_QUEUE_OVERLOADED, queuedMessages.size(), bestEffortPolicy,
+                 reliablePolicy);
+      }
+
+      // nothing is conflated while spilling, the merged values would arrive ahead of the spilled messages
+      //
+      Object message = event.getMessage();
+      if (!spilling && message instanceof ReflectAttributeValues && conflate((ReflectAttributeValues) message))
+      {
+        event.getFuture().setSuccess();
+      }
+      else if (message instanceof ReflectAttributeValues && isBestEffort(
+        ((ReflectAttributeValues) message).getBuilder().getTransportationTypeHandle(),
+        ((ReflectAttributeValues) message).getBuilder().getReceivedOrderType()))
+      {
+        queueBestEffort(event, (ReflectAttributeValues) message);
+      }
+      else if (message instanceof ReceiveInteraction && isBestEffort(
+        ((ReceiveInteraction) message).getBuilder().getTransportationTypeHandle(),
+        ((ReceiveInteraction) message).getBuilder().getReceivedOrderType()))
+      {
+        queueBestEffort(event, null);
+      }
+      else if (!overloaded && !spilling)
+      {
+        queue(event, conflateReflections && message instanceof ReflectAttributeValues ?
+          (ReflectAttributeValues) message : null);
+      }
+      else if (reliablePolicy == ReliablePolicy.SPILL && context.getPipeline().get(MessageEncoder.NAME) != null)
+      {
+        spill(event);
+      }
+      else
+      {
+        // messages to an embedded federate are never encoded, so they cannot be spilled and the federate is
+        // disconnected rather than let its queue grow without bound
+        //
+        event.getFuture().setFailure(new ClosedChannelException());
+
+        log.error(LogMessages.FEDERATE_OUTBOUND_QUEUE_DISCONNECTING, queuedMessages.size());
+
+        close();
+      }
+    }
+  }
+
+  private void queueBestEffort(MessageEvent event, ReflectAttributeValues reflectAttributeValues)
+  {
+    QueuedMessage conflatable;
+    if (spilling)
+    {
+      conflatable = null;
+    }
+    else if (bestEffortPolicy == BestEffortPolicy.CONFLATE && reflectAttributeValues != null)
+    {
+      conflatable = conflatableMessages.get(reflectAttributeValues.getBuilder().getObjectInstanceHandle());
+      if (conflatable != null &&
+          !reflectAttributeValues.supersedes((ReflectAttributeValues) conflatable.event.getMessage()))
+      {
+        conflatable = null;
+      }
+    }
+    else
+    {
+      conflatable = null;
+    }
+
+    if (conflatable != null)
+    {
+      // the new values take the place of the queued ones
+      //
+      conflatable.event.getFuture().setSuccess();
+      conflatable.event = event;
+
+      conflatedMessages++;
+    }
+    else if (overloaded || spilling)
+    {
+      // best effort messages are never spilled and never replace queued ones while spilling, they would arrive ahead
+      // of the spilled messages
+      //
+      event.getFuture().setSuccess();
+
+      droppedMessages++;
+    }
+    else
+    {
+      queue(event, bestEffortPolicy == BestEffortPolicy.CONFLATE || conflateReflections ? reflectAttributeValues : null);
+    }
+  }
+
+  /**
+   * Merges the specified reflection into the queued reflection of the same object instance, if reflections are
+   * conflated and the two can be merged.
+   *
+   * @param reflectAttributeValues the reflection being written
+   * @return {@code true} if the reflection was merged and does not need to be queued
+   */
+  private boolean conflate(ReflectAttributeValues reflectAttributeValues)
+  {
+    boolean conflated = false;
+    if (conflateReflections)
+    {
+      QueuedMessage conflatable = conflatableMessages.get(reflectAttributeValues.getBuilder().getObjectInstanceHandle());
+      if (conflatable != null)
+      {
+        ReflectAttributeValues queuedReflectAttributeValues = (ReflectAttributeValues) conflatable.event.getMessage();
+        if (queuedReflectAttributeValues.canConflate(reflectAttributeValues))
+        {
+          conflatedAttributeValues += queuedReflectAttributeValues.conflate(reflectAttributeValues);
+          conflatedMessages++;
+
+          conflated = true;
+        }
+      }
+    }
+    return conflated;
+  }
+
+  /**
+   * Queues the specified message, remembering it as the reflection later reflections of the same object instance are
+   * conflated into. Any other reflection, alone or in a batch, is written after the queued reflections of its object
+   * instance, so later reflections of that object instance can no longer be merged into them.
+   *
+   * @param event the message being written
+   * @param reflectAttributeValues the message if it is a reflection that can be conflated, otherwise {@code null}
+   */
+  private void queue(MessageEvent event, ReflectAttributeValues reflectAttributeValues)
+  {
+    if (reflectAttributeValues != null &&
+        reflectAttributeValues.getBuilder().getReceivedOrderType() == OHLAProtos.OrderType.RECEIVE)
+    {
+      OHLAProtos.ObjectInstanceHandle objectInstanceHandle =
+        reflectAttributeValues.getBuilder().getObjectInstanceHandle();
+
+      QueuedMessage queuedMessage = new QueuedMessage(event, objectInstanceHandle);
+      queuedMessages.add(queuedMessage);
+
+      conflatableMessages.put(objectInstanceHandle, queuedMessage);
+    }
+    else
+    {
+      queuedMessages.add(new QueuedMessage(event, null));
+
+      if (!conflatableMessages.isEmpty())
+      {
+        Object message = event.getMessage();
+        if (message instanceof ReflectAttributeValues)
+        {
+          conflatableMessages.remove(((ReflectAttributeValues) message).getBuilder().getObjectInstanceHandle());
+        }
+        else if (message instanceof ReflectAttributeValuesBatch)
+        {
+          for (ReflectAttributeValues batchedReflectAttributeValues :
+            ((ReflectAttributeValuesBatch) message).getReflectAttributeValues())
+          {
+            conflatableMessages.remove(batchedReflectAttributeValues.getBuilder().getObjectInstanceHandle());
+          }
+        }
+      }
+    }
+  }
+
+  private void spill(MessageEvent event)
+  {
+    try
+    {
+      if (spillFile == null)
+      {
+        spillFile = new SpillFile();
+      }
+
+      if (!spilling)
+      {
+        spilling = true;
+
+        // the queued reflections are written before anything spilled, later reflections cannot be merged into them
+        //
+        conflatableMessages.clear();
+
+        log.warn(LogMessages.FEDERATE_OUTBOUND_QUEUE_SPILLING, spillFile.path);
+      }
+
+      MessageEncoder messageEncoder = (MessageEncoder) context.getPipeline().get(MessageEncoder.NAME);
+      spillFile.append(messageEncoder.encode((Message) event.getMessage()));
+
+      spilledMessages++;
+
+      event.getFuture().setSuccess();
+    }
+    catch (IOException ioe)
+    {
+      event.getFuture().setFailure(ioe);
+
+      log.error(LogMessages.FEDERATE_OUTBOUND_QUEUE_SPILL_FAILED, ioe);
+
+      close();
+    }
+  }
+
+  private void send(MessageEvent event)
+  {
+    inFlight++;
+
+    event.getFuture().addListener(writeCompleted);
+
+    context.sendDownstream(event);
+  }
+
+  private synchronized void writeCompleted()
+  {
+    inFlight--;
+
+    drain();
+  }
+
+  /**
+   * Hands queued messages to the channel while it can take them. Writes can complete in the middle of a drain when
+   * the channel is written to from its own I/O thread, the drain already in progress carries on instead.
+   */
+  private void drain()
+  {
+    if (!draining && context != null)
+    {
+      draining = true;
+      try
+      {
+        boolean more = true;
+        while (more && !closed && inFlight < MAX_IN_FLIGHT && context.getChannel().isWritable())
+        {
+          QueuedMessage queuedMessage = queuedMessages.poll();
+          if (queuedMessage != null)
+          {
+            if (queuedMessage.objectInstanceHandle != null &&
+                conflatableMessages.get(queuedMessage.objectInstanceHandle) == queuedMessage)
+            {
+              conflatableMessages.remove(queuedMessage.objectInstanceHandle);
+            }
+
+            send(queuedMessage.event);
+          }
+          else if (spilling)
+          {
+            more = drainSpillFile();
+          }
+          else
+          {
+            more = false;
+          }
+        }
+
+        if (overloaded && !spilling && queuedMessages.size() <= lowWatermark)
+        {
+          overloaded = false;
+
+          log.info(LogMessages.FEDERATE_OUTBOUND_QUEUE_RECOVERED, queuedMessages.size(), droppedMessages,
+                   conflatedMessages, conflatedAttributeValues, spilledMessages);
+        }
+      }
+      finally
+      {
+        draining = false;
+      }
+    }
+  }
+
+  private boolean drainSpillFile()
+  {
+    boolean more;
+    try
+    {
+      ChannelBuffer chunk = spillFile.read(SPILL_CHUNK_SIZE);
+      if (chunk == null)
+      {
+        spillFile.clear();
+
+        spilling = false;
+
+        more = false;
+      }
+      else
+      {
+        inFlight++;
+
+        ChannelFuture future = Channels.future(context.getChannel());
+        future.addListener(writeCompleted);
+
+        // the encoder passes already encoded chunks straight through
+        //
+        Channels.write(context, future, chunk);
+
+        more = true;
+      }
+    }
+    catch (IOException ioe)
+    {
+      log.error(LogMessages.FEDERATE_OUTBOUND_QUEUE_SPILL_FAILED, ioe);
+
+      close();
+
+      more = false;
+    }
+    return more;
+  }
+
+  /**
+   * Stops the queue, the channel is closed by {@link #closeIfClosing()} once the monitor of this queue is released.
+   */
+  private void close()
+  {
+    if (!closed)
+    {
+      closed = true;
+
+      closing = context.getChannel();
+    }
+  }
+
+  private void closeIfClosing()
+  {
+    Channel channel;
+    synchronized (this)
+    {
+      channel = closing;
+      closing = null;
+    }
+
+    if (channel != null)
+    {
+      Channels.close(channel);
+    }
+  }
+
+  private synchronized void channelClosed()
+  {
+    closed = true;
+
+    for (QueuedMessage queuedMessage = queuedMessages.poll(); queuedMessage != null;
+         queuedMessage = queuedMessages.poll())
+    {
+      queuedMessage.event.getFuture().setFailure(new ClosedChannelException());
+    }
+    conflatableMessages.clear();
+
+    if (spillFile != null)
+    {
+      try
+      {
+        spillFile.close();
+      }
+      catch (IOException ioe)
+      {
+        log.warn(LogMessages.FEDERATE_OUTBOUND_QUEUE_SPILL_FAILED, ioe);
+      }
+      spillFile = null;
+      spilling = false;
+    }
+  }
+
+  /**
+   * Returns {@code true} if the message can be dropped or conflated. Time stamp ordered messages never are, whatever
+   * their transportation, a time constrained federate cannot advance past a message it never receives.
+   */
+  private static boolean isBestEffort(int transportationTypeHandle, OHLAProtos.OrderType receivedOrderType)
+  {
+    return transportationTypeHandle == IEEE1516eTransportationTypeHandle.HLA_BEST_EFFORT.handle &&
+           receivedOrderType == OHLAProtos.OrderType.RECEIVE;
+  }
+
+  private static int getWatermark(String property, int defaultValue)
+  {
+    int watermark = defaultValue;
+
+    String value = System.getProperty(property);
+    if (value != null)
+    {
+      try
+      {
+        watermark = Integer.parseInt(value);
+      }
+      catch (NumberFormatException nfe)
+      {
+        watermark = 0;
+      }
+
+      if (watermark <= 0)
+      {
+        logger.warn(LogMessages.INVALID_OUTBOUND_QUEUE_PROPERTY, property, value);
+
+        watermark = defaultValue;
+      }
+    }
+    return watermark;
+  }
+
+  private static <E extends Enum<E>> E getPolicy(String property, Class<E> policyClass, E defaultPolicy)
+  {
+    E policy = defaultPolicy;
+
+    String value = System.getProperty(property);
+    if (value != null)
+    {
+      try
+      {
+        policy = Enum.valueOf(policyClass, value.toUpperCase());
+      }
+      catch (IllegalArgumentException iae)
+      {
+        logger.warn(LogMessages.INVALID_OUTBOUND_QUEUE_PROPERTY, property, value);
+      }
+    }
+    return policy;
+  }
+
+  private static class QueuedMessage
+  {
+    private MessageEvent event;
+
+    /**
+     * The object instance of a conflatable reflection, otherwise {@code null}.
+     */
+    private final OHLAProtos.ObjectInstanceHandle objectInstanceHandle;
+
+    private QueuedMessage(MessageEvent event, OHLAProtos.ObjectInstanceHandle objectInstanceHandle)
+    {
+      this.event = event;
+      this.objectInstanceHandle = objectInstanceHandle;
+    }
+  }
+
+  /**
+   * An append only file of encoded messages that is read back in chunks and emptied once it has all been read.
+   */
+  private static class SpillFile
+  {
+    private final Path path;
+    private final FileChannel fileChannel;
+
+    private long readPosition;
+    private long writePosition;
+
+    private SpillFile()
+      throws IOException
+    {
+      path = Files.createTempFile(
+        Paths.get(System.getProperty(OHLA_RTI_OUTBOUND_QUEUE_SPILL_DIRECTORY_PROPERTY,
+                                     System.getProperty("java.io.tmpdir"))), "ohla-", ".spill");
+      fileChannel = FileChannel.open(
+        path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    public void append(ChannelBuffer buffer)
+      throws IOException
+    {
+      for (ByteBuffer byteBuffer : buffer.toByteBuffers())
+      {
+        while (byteBuffer.hasRemaining())
+        {
+          writePosition += fileChannel.write(byteBuffer, writePosition);
+        }
+      }
+    }
+
+    /**
+     * Returns the next chunk of the file or {@code null} if all of it has been read.
+     */
+    public ChannelBuffer read(int maxLength)
+      throws IOException
+    {
+      ChannelBuffer chunk;
+
+      int length = (int) Math.min(maxLength, writePosition - readPosition);
+      if (length == 0)
+      {
+        chunk = null;
+      }
+      else
+      {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(length);
+        while (byteBuffer.hasRemaining())
+        {
+          int read = fileChannel.read(byteBuffer, readPosition);
+          if (read < 0)
+          {
+            throw new IOException(path.toString());
+          }
+          readPosition += read;
+        }
+        byteBuffer.flip();
+
+        chunk = ChannelBuffers.wrappedBuffer(byteBuffer);
+      }
+      return chunk;
+    }
+
+    public void clear()
+      throws IOException
+    {
+      fileChannel.truncate(0L);
+
+      readPosition = 0L;
+      writePosition = 0L;
+    }
+
+    public void close()
+      throws IOException
+    {
+      fileChannel.close();
+    }
+  }
+}
@@ -17,44 +17,46 @@
 package net.sf.ohla.rti.federation;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 
-import java.nio.channels.Channels;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.util.List;
 
+import net.sf.ohla.rti.util.ByteBufferInputStream;
 import net.sf.ohla.rti.util.FederateHandles;
-import net.sf.ohla.rti.util.MoreChannels;
-import net.sf.ohla.rti.messages.FederateStateOutputStream;
+import net.sf.ohla.rti.messages.FederateStateFrame;
 import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederateSaveHeader;
 
+import org.jboss.netty.channel.Channel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
 
-import com.google.common.io.ByteStreams;
 import com.google.protobuf.CodedInputStream;
 import hla.rti1516e.FederateHandle;
 
+/**
+ * The saved state of a {@link net.sf.ohla.rti.federate.Federate} and its {@link FederateProxy}. Both are read straight
+ * out of the memory mapped save file, the federate's state is sent to the federate a frame at a time.
+ */
 public class FederateProxyRestore
 {
+  /**
+   * The largest amount of federate state sent in a single {@link FederateStateFrame}.
+   */
+  public static final int FRAME_SIZE = 64 * 1024;
+
   private final FederateHandle federateHandle;
   private final String federateName;
   private final String federateType;
 
-  private final Path federateStateFile;
-  private final Path federateProxyStateFile;
+  private final List<ByteBuffer> federateState;
+  private final List<ByteBuffer> federateProxyState;
 
-  public FederateProxyRestore(FileChannel restoreFileChannel)
+  public FederateProxyRestore(FileChannel restoreFileChannel, FederateSaveHeader federateSaveHeader)
     throws IOException
   {
-    FederateSaveHeader federateSaveHeader =
-      FederateSaveHeader.parseDelimitedFrom(Channels.newInputStream(restoreFileChannel));
-
     federateHandle = FederateHandles.convert(federateSaveHeader.getFederateHandle());
     federateName = federateSaveHeader.getFederateName();
     federateType = federateSaveHeader.getFederateType();
@@ -63,16 +65,10 @@ public class FederateProxyRestore
     Logger logger = LoggerFactory.getLogger(FederateProxyRestore.class);
     logger.debug(marker, "Federate restore: {}-{}", federateHandle, federateName);
 
-    federateStateFile = Files.createTempFile(FederateProxySave.FEDERATE_STATE, "restore");
-    logger.debug(marker, "Federate state file: {}", federateStateFile);
-
-    federateProxyStateFile = Files.createTempFile(FederateProxySave.FEDERATE_PROXY_STATE, "restore");
-    logger.debug(marker, "Federate proxy state file: {}", federateProxyStateFile);
-
-    MoreChannels.transferToFully(
-      restoreFileChannel, federateStateFile, federateSaveHeader.getFederateStateLength());
-    MoreChannels.transferToFully(
-      restoreFileChannel, federateProxyStateFile, federateSaveHeader.getFederateProxyStateLength());
+    federateState = FederationExecutionSaveFile.map(
+      restoreFileChannel, federateSaveHeader.getFederateStateExtentsList());
+    federateProxyState = FederationExecutionSaveFile.map(
+      restoreFileChannel, federateSaveHeader.getFederateProxyStateExtentsList());
   }
 
   public FederateHandle getFederateHandle()
@@ -95,19 +91,20 @@ public class FederateProxyRestore
   {
     // send the Federate state over to the Federate
     //
-    try (InputStream in = Channels.newInputStream(FileChannel.open(federateStateFile, StandardOpenOption.READ));
-         OutputStream out = new FederateStateOutputStream(federateProxy.getFederateChannel(), 4096))
+    Channel federateChannel = federateProxy.getFederateChannel();
+    for (ByteBuffer buffer : federateState)
     {
-      ByteStreams.copy(in, out);
-    }
+      for (int position = 0; position < buffer.limit(); position += FRAME_SIZE)
+      {
+        ByteBuffer frame = buffer.duplicate();
+        frame.position(position).limit(Math.min(buffer.limit(), position + FRAME_SIZE));
 
-    try (InputStream in = Channels.newInputStream(FileChannel.open(federateProxyStateFile, StandardOpenOption.READ)))
-    {
-      CodedInputStream codedInputStream = CodedInputStream.newInstance(in);
-      federateProxy.restoreState(federateHandle, federateName, federateType, codedInputStream);
+        federateChannel.write(new FederateStateFrame(frame, false));
+      }
     }
+    federateChannel.write(new FederateStateFrame(ByteBuffer.allocate(0), true));
 
-    Files.delete(federateStateFile);
-    Files.delete(federateProxyStateFile);
+    CodedInputStream codedInputStream = CodedInputStream.newInstance(new ByteBufferInputStream(federateProxyState));
+    federateProxy.restoreState(federateHandle, federateName, federateType, codedInputStream);
   }
 }
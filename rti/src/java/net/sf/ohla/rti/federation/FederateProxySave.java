@@ -19,14 +19,7 @@ package net.sf.ohla.rti.federation;
 import java.io.IOException;
 import java.io.OutputStream;
 
-import java.nio.channels.Channels;
-import java.nio.channels.FileChannel;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
-
 import net.sf.ohla.rti.util.FederateHandles;
-import net.sf.ohla.rti.util.MoreChannels;
 import net.sf.ohla.rti.messages.FederateStateFrame;
 import net.sf.ohla.rti.proto.FederationExecutionSaveProtos;
 
@@ -35,30 +28,23 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
 
-import com.google.protobuf.CodedOutputStream;
 import hla.rti1516e.FederateHandle;
 
 /**
  * The {@code FederateProxySave} represents the state of the {@link net.sf.ohla.rti.federate.Federate} and the
- * {@link FederateProxy} at the time of a save.
+ * {@link FederateProxy} at the time of a save. Both are streamed straight into their own regions of the save file as
+ * they are received.
  */
 public class FederateProxySave
 {
-  public static final String FEDERATE_STATE = "Federate_State";
-  public static final String FEDERATE_PROXY_STATE = "Federate_Proxy_State";
-
   private final FederateHandle federateHandle;
   private final String federateName;
   private final String federateType;
 
-  private final Path federateStateFile;
-  private final Path federateProxyStateFile;
-
-  private final FileChannel federateStateFileChannel;
-  private final FileChannel federateProxyStateFileChannel;
+  private final FederationExecutionSaveFile.Region federateState;
+  private final FederationExecutionSaveFile.Region federateProxyState;
 
-  public FederateProxySave(FederateProxy federateProxy)
-    throws IOException
+  public FederateProxySave(FederateProxy federateProxy, FederationExecutionSaveFile saveFile)
   {
     federateHandle = federateProxy.getFederateHandle();
     federateName = federateProxy.getFederateName();
@@ -68,32 +54,25 @@ public class FederateProxySave
     Logger logger = LoggerFactory.getLogger(FederateProxySave.class);
     logger.debug(marker, "Federate save: {}", federateProxy);
 
-    federateStateFile = Files.createTempFile(FEDERATE_STATE, "save");
-    logger.debug(marker, "Federate state file: {}", federateStateFile);
-
-    federateProxyStateFile = Files.createTempFile(FEDERATE_PROXY_STATE, "save");
-    logger.debug(marker, "Federate proxy state file: {}", federateProxyStateFile);
-
-    federateStateFileChannel = FileChannel.open(federateStateFile, StandardOpenOption.WRITE);
-    federateProxyStateFileChannel = FileChannel.open(federateProxyStateFile, StandardOpenOption.WRITE);
+    federateState = saveFile.createRegion();
+    federateProxyState = saveFile.createRegion();
   }
 
   public OutputStream getFederateProxyStateOutputStream()
   {
-    return Channels.newOutputStream(federateProxyStateFileChannel);
+    return federateProxyState;
   }
 
   public void handleFederateStateFrame(FederateStateFrame federateStateFrame)
     throws IOException
   {
-    MoreChannels.writeFully(federateStateFileChannel, federateStateFrame.getPayload().asReadOnlyByteBuffer());
+    federateState.write(federateStateFrame.getPayload().asReadOnlyByteBuffer());
   }
 
-  public void writeTo(FileChannel saveFileChannel, CodedOutputStream saveFileCodedOutputStream)
-    throws IOException
+  public FederationExecutionSaveProtos.FederateSaveHeader complete()
   {
-    federateStateFileChannel.close();
-    federateProxyStateFileChannel.close();
+    federateState.close();
+    federateProxyState.close();
 
     FederationExecutionSaveProtos.FederateSaveHeader.Builder federateSaveHeader =
       FederationExecutionSaveProtos.FederateSaveHeader.newBuilder();
@@ -102,18 +81,11 @@ public class FederateProxySave
     federateSaveHeader.setFederateName(federateName);
     federateSaveHeader.setFederateType(federateType);
 
-    federateSaveHeader.setFederateStateLength(Files.size(federateStateFile));
-    federateSaveHeader.setFederateProxyStateLength(Files.size(federateProxyStateFile));
-
-    saveFileCodedOutputStream.writeMessageNoTag(federateSaveHeader.build());
-    saveFileCodedOutputStream.flush();
-
-    MoreChannels.transferFromFully(saveFileChannel, federateStateFile, Files.size(federateStateFile));
-    MoreChannels.transferFromFully(saveFileChannel, federateProxyStateFile, Files.size(federateProxyStateFile));
-
-    // TODO: need to be sure these files will be deleted
+    federateSaveHeader.setFederateStateLength(federateState.getLength());
+    federateSaveHeader.setFederateProxyStateLength(federateProxyState.getLength());
+    federateSaveHeader.addAllFederateStateExtents(federateState.getExtents());
+    federateSaveHeader.addAllFederateProxyStateExtents(federateProxyState.getExtents());
 
-    Files.delete(federateStateFile);
-    Files.delete(federateProxyStateFile);
+    return federateSaveHeader.build();
   }
 }
@@ -16,25 +16,26 @@
 
 package net.sf.ohla.rti.federation;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
+import net.sf.ohla.rti.util.AttributeHandles;
 import net.sf.ohla.rti.util.SubscriptionManager;
 import net.sf.ohla.rti.fdd.InteractionClass;
-import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandleValueMapFactory;
 import net.sf.ohla.rti.messages.SendInteraction;
 import net.sf.ohla.rti.messages.UpdateAttributeValues;
 import net.sf.ohla.rti.messages.callbacks.DiscoverObjectInstance;
 import net.sf.ohla.rti.messages.callbacks.ReceiveInteraction;
 import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValues;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
 
 import hla.rti1516e.AttributeHandle;
-import hla.rti1516e.AttributeHandleValueMap;
 import hla.rti1516e.DimensionHandle;
 import hla.rti1516e.FederateHandle;
 import hla.rti1516e.OrderType;
-import hla.rti1516e.ParameterHandleValueMap;
 import hla.rti1516e.RangeBounds;
 import hla.rti1516e.RegionHandle;
 
@@ -84,65 +85,71 @@ public class FederateProxySubscriptionManager
     {
       Map<RegionHandle, Map<DimensionHandle, RangeBounds>> sentRegions = null;
 
-      AttributeHandleValueMap trimmedAttributeValues = null;
+      // the attribute values are only copied if some of them are not reflected, otherwise the attribute values encoded
+      // once by the update are shared by every subscriber
+      //
+      List<MessageProtos.AttributeValue> attributeValues = updateAttributeValues.getBuilder().getAttributeValuesList();
+      List<MessageProtos.AttributeValue> trimmedAttributeValues = null;
+      int reflectedAttributeValues = 0;
 
-      for (Map.Entry<AttributeHandle, byte[]> entry : updateAttributeValues.getAttributeValues().entrySet())
+      for (int i = 0; i < attributeValues.size(); i++)
       {
-        AttributeHandle attributeHandle = entry.getKey();
+        MessageProtos.AttributeValue attributeValue = attributeValues.get(i);
+        AttributeHandle attributeHandle = AttributeHandles.convert(attributeValue.getAttributeHandle());
+
+        boolean reflect;
 
         AttributeSubscription attributeSubscription = objectClassSubscription.getAttributeSubscription(attributeHandle);
-        if (attributeSubscription != null)
+        if (attributeSubscription == null)
+        {
+          reflect = false;
+        }
+        else if (federateProxy.isConveyRegionDesignatorSets() &&
+                 attributeSubscription.getSubscribedRegionHandles().size() > 0)
         {
-          if (federateProxy.isConveyRegionDesignatorSets() &&
-              attributeSubscription.getSubscribedRegionHandles().size() > 0)
+          if (sentRegions == null)
           {
-            if (sentRegions == null)
-            {
-              sentRegions = new HashMap<>();
-            }
-
-            // copy all the regions
-
-            if (objectInstance.regionsIntersect(
-              attributeHandle, federateProxy.getFederationExecution().getRegionManager(),
-              attributeSubscription.getSubscribedRegionHandles(), sentRegions))
-            {
-              if (trimmedAttributeValues == null)
-              {
-                trimmedAttributeValues = IEEE1516eAttributeHandleValueMapFactory.INSTANCE.create(
-                  updateAttributeValues.getAttributeValues().size());
-              }
-              trimmedAttributeValues.put(attributeHandle, entry.getValue());
-            }
+            sentRegions = new HashMap<>();
           }
-          else
+
+          // copy all the regions
+
+          reflect = objectInstance.regionsIntersect(
+            attributeHandle, federateProxy.getFederationExecution().getRegionManager(),
+            attributeSubscription.getSubscribedRegionHandles(), sentRegions);
+        }
+        else
+        {
+          // just check for intersection
+
+          reflect = objectInstance.regionsIntersect(
+            attributeHandle, federateProxy.getFederationExecution().getRegionManager(),
+            attributeSubscription.getSubscribedRegionHandles());
+        }
+
+        if (reflect)
+        {
+          reflectedAttributeValues++;
+
+          if (trimmedAttributeValues != null)
           {
-            // just check for intersection
-
-            if (objectInstance.regionsIntersect(
-              attributeHandle, federateProxy.getFederationExecution().getRegionManager(),
-              attributeSubscription.getSubscribedRegionHandles()))
-            {
-              if (trimmedAttributeValues == null)
-              {
-                trimmedAttributeValues = IEEE1516eAttributeHandleValueMapFactory.INSTANCE.create(
-                  updateAttributeValues.getAttributeValues().size());
-              }
-              trimmedAttributeValues.put(attributeHandle, entry.getValue());
-            }
+            trimmedAttributeValues.add(attributeValue);
           }
         }
+        else if (trimmedAttributeValues == null)
+        {
+          trimmedAttributeValues = new ArrayList<>(attributeValues.subList(0, i));
+        }
       }
 
-      if (trimmedAttributeValues == null || trimmedAttributeValues.isEmpty())
+      if (reflectedAttributeValues == 0)
       {
         reflectAttributeValues = null;
       }
       else
       {
         reflectAttributeValues = new ReflectAttributeValues(
-          updateAttributeValues.getBuilder(), trimmedAttributeValues, orderType,
-          producingFederateHandle, sentRegions);
+          updateAttributeValues, trimmedAttributeValues, orderType, producingFederateHandle, sentRegions);
       }
     }
 
@@ -158,10 +165,11 @@ public class FederateProxySubscriptionManager
       getSubscribedObjectClassSubscription(objectInstance.getObjectClass());
     if (objectClassSubscription != null)
     {
-      for (Iterator<AttributeHandle> i = updateAttributeValues.getAttributeValues().keySet().iterator();
+      for (Iterator<MessageProtos.AttributeValue> i =
+             updateAttributeValues.getBuilder().getAttributeValuesList().iterator();
            i.hasNext() && !wouldReflectAttributeValues;)
       {
-        AttributeHandle attributeHandle = i.next();
+        AttributeHandle attributeHandle = AttributeHandles.convert(i.next().getAttributeHandle());
 
         AttributeSubscription attributeSubscription = objectClassSubscription.getAttributeSubscription(attributeHandle);
         if (attributeSubscription != null && objectInstance.regionsIntersect(
@@ -192,69 +200,57 @@ public class FederateProxySubscriptionManager
     }
     else
     {
-      ParameterHandleValueMap trimmedParameterValues;
+      boolean receive;
       Map<RegionHandle, Map<DimensionHandle, RangeBounds>> sentRegions;
 
       if (sendInteraction.getSentRegionHandles() == null)
       {
         sentRegions = null;
-
-        if (interactionClassSubscription.getSubscribedRegionHandles().isEmpty())
-        {
-          trimmedParameterValues = interactionClassSubscription.trim(
-            interactionClass, sendInteraction.getParameterValues());
-        }
-        else
-        {
-          trimmedParameterValues = null;
-        }
+        receive = interactionClassSubscription.getSubscribedRegionHandles().isEmpty();
       }
       else if (interactionClassSubscription.getSubscribedRegionHandles().isEmpty())
       {
-        trimmedParameterValues = null;
         sentRegions = null;
+        receive = false;
       }
       else if (federateProxy.isConveyRegionDesignatorSets())
       {
         sentRegions = federateProxy.getFederationExecution().getRegionManager().intersects(
           interactionClassSubscription.getSubscribedRegionHandles(), sendInteraction.getSentRegionHandles(),
           interactionClassSubscription.getInteractionClass());
-        if (sentRegions == null)
-        {
-          trimmedParameterValues = null;
-        }
-        else
-        {
-          trimmedParameterValues =
-            interactionClassSubscription.trim(interactionClass, sendInteraction.getParameterValues());
-        }
+        receive = sentRegions != null;
       }
       else
       {
         sentRegions = null;
-
-        if (federateProxy.getFederationExecution().getRegionManager().intersectsOnly(
+        receive = federateProxy.getFederationExecution().getRegionManager().intersectsOnly(
           interactionClassSubscription.getSubscribedRegionHandles(), sendInteraction.getSentRegionHandles(),
-          interactionClassSubscription.getInteractionClass()))
+          interactionClassSubscription.getInteractionClass());
+      }
+
+      if (receive)
+      {
+        List<MessageProtos.ParameterValue> parameterValues = sendInteraction.getBuilder().getParameterValuesList();
+
+        // the parameter values are only copied if the subscribed interaction class differs, otherwise the parameter
+        // values encoded once by the interaction are shared by every subscriber
+        //
+        List<MessageProtos.ParameterValue> trimmedParameterValues =
+          interactionClassSubscription.trim(interactionClass, parameterValues);
+
+        if (trimmedParameterValues == null ? parameterValues.isEmpty() : trimmedParameterValues.isEmpty())
         {
-          trimmedParameterValues =
-            interactionClassSubscription.trim(interactionClass, sendInteraction.getParameterValues());
+          receiveInteraction = null;
         }
         else
         {
-          trimmedParameterValues = null;
+          receiveInteraction = new ReceiveInteraction(
+            sendInteraction, trimmedParameterValues, receivedOrderType, producingFederateHandle, sentRegions);
         }
       }
-
-      if (trimmedParameterValues == null || trimmedParameterValues.isEmpty())
-      {
-        receiveInteraction = null;
-      }
       else
       {
-        receiveInteraction = new ReceiveInteraction(
-          sendInteraction.getBuilder(), trimmedParameterValues, receivedOrderType,
-          producingFederateHandle, sentRegions);
+        receiveInteraction = null;
       }
     }
 
@@ -16,52 +16,262 @@
 
 package net.sf.ohla.rti.federation;
 
+import java.io.IOException;
+
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import net.sf.ohla.rti.fdd.InteractionClass;
+import net.sf.ohla.rti.fdd.ObjectClass;
 import net.sf.ohla.rti.messages.DeleteObjectInstance;
 import net.sf.ohla.rti.messages.SendInteraction;
 import net.sf.ohla.rti.messages.UpdateAttributeValues;
 
+import com.google.protobuf.CodedInputStream;
+import hla.rti1516e.InteractionClassHandle;
 import hla.rti1516e.LogicalTime;
+import hla.rti1516e.MessageRetractionHandle;
+import hla.rti1516e.ObjectClassHandle;
+import hla.rti1516e.ObjectInstanceHandle;
 import hla.rti1516e.OrderType;
 
+/**
+ * The time stamp ordered messages queued for a time constrained federate.
+ * <p/>
+ * The LITS is the time of the earliest queued message the federate would receive. Every queued message is asked once
+ * whether it would be delivered and the ones that would are kept in {@link #deliverable}, in time order, so the LITS
+ * is its first message. The queued messages are also grouped by interaction class and object instance: a subscription
+ * change or a discovery only re-asks the messages of the classes or the object instance it touches. Only region
+ * changes, which can affect any message, re-ask every queued message.
+ */
 public class FederateProxyTimeStampOrderedMessageQueue
   extends TimeStampOrderedMessageQueue
 {
   private final FederateProxy federateProxy;
 
+  /**
+   * Incremented whenever anything that decides whether any of the queued messages would be delivered changes.
+   */
+  private final AtomicInteger version = new AtomicInteger();
+
+  /**
+   * The {@link #version} {@link #deliverable} was last rebuilt at.
+   */
+  private int deliverableVersion;
+
+  /**
+   * The subscriptions or known object instances that changed since the last LITS, the queued messages they touch are
+   * asked again whether they would be delivered.
+   */
+  private final Set<InteractionClassHandle> invalidInteractionClassHandles =
+    Collections.newSetFromMap(new ConcurrentHashMap<InteractionClassHandle, Boolean>());
+  private final Set<ObjectClassHandle> invalidObjectClassHandles =
+    Collections.newSetFromMap(new ConcurrentHashMap<ObjectClassHandle, Boolean>());
+  private final Set<ObjectInstanceHandle> invalidObjectInstanceHandles =
+    Collections.newSetFromMap(new ConcurrentHashMap<ObjectInstanceHandle, Boolean>());
+
+  /**
+   * The queued messages that would be delivered, in the order of {@link #retractables}.
+   */
+  private final NavigableSet<QueuedTimeStampOrderedMessage> deliverable;
+
+  /**
+   * The queued messages that have not yet been asked whether they would be delivered.
+   */
+  private final Set<QueuedTimeStampOrderedMessage> undecided = new LinkedHashSet<>();
+
+  private final Map<InteractionClassHandle, Set<QueuedTimeStampOrderedMessage>> queuedByInteractionClassHandle =
+    new HashMap<>();
+  private final Map<ObjectInstanceHandle, Set<QueuedTimeStampOrderedMessage>> queuedByObjectInstanceHandle =
+    new HashMap<>();
+
   public FederateProxyTimeStampOrderedMessageQueue(
     FederationExecution federationExecution, FederateProxy federateProxy)
   {
     super(federationExecution);
 
     this.federateProxy = federateProxy;
+
+    deliverable = new TreeSet<>(retractables.comparator());
+  }
+
+  /**
+   * Invalidates the cached LITS. Called whenever the regions of the federation change since they can decide whether
+   * any of the queued messages would be delivered.
+   */
+  public void invalidateLITS()
+  {
+    version.incrementAndGet();
+  }
+
+  /**
+   * Invalidates the cached LITS for the queued interactions of the specified class or its subclasses. Called whenever
+   * the federate's subscription to the class changes.
+   */
+  public void invalidateLITS(InteractionClassHandle interactionClassHandle)
+  {
+    invalidInteractionClassHandles.add(interactionClassHandle);
+  }
+
+  /**
+   * Invalidates the cached LITS for the queued messages of the object instances of the specified class or its
+   * subclasses. Called whenever the federate's subscription to the class changes.
+   */
+  public void invalidateLITS(ObjectClassHandle objectClassHandle)
+  {
+    invalidObjectClassHandles.add(objectClassHandle);
+  }
+
+  /**
+   * Invalidates the cached LITS for the queued messages of the specified object instance. Called whenever the
+   * federate discovers or removes the object instance.
+   */
+  public void invalidateLITS(ObjectInstanceHandle objectInstanceHandle)
+  {
+    invalidObjectInstanceHandles.add(objectInstanceHandle);
   }
 
   public synchronized LogicalTime lits()
   {
-    LogicalTime lits = null;
-    for (Iterator<QueuedTimeStampOrderedMessage> i = retractables.iterator(); lits == null && i.hasNext(); )
+    int currentVersion = version.get();
+    if (deliverableVersion != currentVersion)
     {
-      QueuedTimeStampOrderedMessage queuedTimeStampOrderedMessage = i.next();
-      if (queuedTimeStampOrderedMessage.isRetracted())
+      // anything could have changed, ask every queued message again
+
+      invalidInteractionClassHandles.clear();
+      invalidObjectClassHandles.clear();
+      invalidObjectInstanceHandles.clear();
+
+      undecided.clear();
+      deliverable.clear();
+
+      for (QueuedTimeStampOrderedMessage queuedTimeStampOrderedMessage : retractables)
       {
-        // remove if:
-        // - the message was retracted
+        if (wouldDeliver(queuedTimeStampOrderedMessage))
+        {
+          deliverable.add(queuedTimeStampOrderedMessage);
+        }
+      }
 
+      deliverableVersion = currentVersion;
+    }
+    else
+    {
+      for (Iterator<InteractionClassHandle> i = invalidInteractionClassHandles.iterator(); i.hasNext(); )
+      {
+        InteractionClass interactionClass = federationExecution.getFDD().getInteractionClassSafely(i.next());
         i.remove();
 
-        retractablesByMessageRetractionHandle.remove(
-          queuedTimeStampOrderedMessage.getTimeStampOrderedMessage().getMessageRetractionHandle());
+        for (Map.Entry<InteractionClassHandle, Set<QueuedTimeStampOrderedMessage>> entry :
+          queuedByInteractionClassHandle.entrySet())
+        {
+          if (interactionClass.isAssignableFrom(federationExecution.getFDD().getInteractionClassSafely(entry.getKey())))
+          {
+            decide(entry.getValue());
+          }
+        }
       }
-      else if (wouldDeliver(queuedTimeStampOrderedMessage))
+
+      for (Iterator<ObjectClassHandle> i = invalidObjectClassHandles.iterator(); i.hasNext(); )
       {
-        // only messages that would be received count towards LITS
+        ObjectClass objectClass = federationExecution.getFDD().getObjectClassSafely(i.next());
+        i.remove();
+
+        for (Map.Entry<ObjectInstanceHandle, Set<QueuedTimeStampOrderedMessage>> entry :
+          queuedByObjectInstanceHandle.entrySet())
+        {
+          FederationExecutionObjectInstance objectInstance =
+            federationExecution.getObjectManager().getObjects().get(entry.getKey());
+          if (objectInstance == null || objectClass.isAssignableFrom(objectInstance.getObjectClass()))
+          {
+            decide(entry.getValue());
+          }
+        }
+      }
+
+      for (Iterator<ObjectInstanceHandle> i = invalidObjectInstanceHandles.iterator(); i.hasNext(); )
+      {
+        Set<QueuedTimeStampOrderedMessage> queuedTimeStampOrderedMessages = queuedByObjectInstanceHandle.get(i.next());
+        i.remove();
 
-        lits = queuedTimeStampOrderedMessage.getTime();
+        if (queuedTimeStampOrderedMessages != null)
+        {
+          decide(queuedTimeStampOrderedMessages);
+        }
       }
+
+      decide(undecided);
+    }
+    undecided.clear();
+
+    return deliverable.isEmpty() ? null : deliverable.first().getTime();
+  }
+
+  @Override
+  public synchronized boolean add(QueuedTimeStampOrderedMessage queuedTimeStampOrderedMessage)
+  {
+    boolean added;
+    if (added = super.add(queuedTimeStampOrderedMessage))
+    {
+      undecided.add(queuedTimeStampOrderedMessage);
+
+      group(queuedTimeStampOrderedMessage, true);
+    }
+    return added;
+  }
+
+  @Override
+  public synchronized boolean retract(MessageRetractionHandle messageRetractionHandle)
+  {
+    QueuedTimeStampOrderedMessage queuedTimeStampOrderedMessage =
+      retractablesByMessageRetractionHandle.get(messageRetractionHandle);
+
+    boolean retracted;
+    if (retracted = super.retract(messageRetractionHandle))
+    {
+      removed(queuedTimeStampOrderedMessage);
     }
-    return lits;
+    return retracted;
+  }
+
+  @Override
+  public synchronized void expire(LogicalTime time)
+  {
+    long timeKey = logicalTimeType.toKey(time);
+
+    QueuedTimeStampOrderedMessage queuedTimeStampOrderedMessage;
+    for (Iterator<QueuedTimeStampOrderedMessage> i = retractables.iterator();
+         i.hasNext() && compareTime(queuedTimeStampOrderedMessage = i.next(), time, timeKey) <= 0; )
+    {
+      removed(queuedTimeStampOrderedMessage);
+    }
+
+    super.expire(time);
+  }
+
+  @Override
+  public synchronized void clear()
+  {
+    super.clear();
+
+    removedAll();
+  }
+
+  @Override
+  public synchronized void restoreState(CodedInputStream in)
+    throws IOException
+  {
+    removedAll();
+
+    super.restoreState(in);
   }
 
   public synchronized void deliverAll(OrderType receivedOrderType)
@@ -73,6 +283,8 @@ public class FederateProxyTimeStampOrderedMessageQueue
 
     retractables.clear();
     retractablesByMessageRetractionHandle.clear();
+
+    removedAll();
   }
 
   public synchronized void flush()
@@ -80,41 +292,126 @@ public class FederateProxyTimeStampOrderedMessageQueue
     for (Iterator<QueuedTimeStampOrderedMessage> i = retractables.iterator(); i.hasNext(); )
     {
       QueuedTimeStampOrderedMessage queuedTimeStampOrderedMessage = i.next();
-      if (queuedTimeStampOrderedMessage.isRetracted() || deliver(queuedTimeStampOrderedMessage, OrderType.TIMESTAMP))
+      if (deliver(queuedTimeStampOrderedMessage, OrderType.TIMESTAMP))
       {
-        // remove if:
-        // - the message was retracted
-        //    - or -
-        // - the message was successfully delivered
+        // remove if the message was successfully delivered
 
         i.remove();
 
         retractablesByMessageRetractionHandle.remove(queuedTimeStampOrderedMessage.getMessageRetractionHandle());
+
+        removed(queuedTimeStampOrderedMessage);
       }
     }
   }
 
-  @SuppressWarnings("unchecked")
   public synchronized void deliverTo(LogicalTime time)
   {
-    boolean keepChecking = true;
-    for (Iterator<QueuedTimeStampOrderedMessage> i = retractables.iterator(); keepChecking && i.hasNext(); )
+    long timeKey = logicalTimeType.toKey(time);
+
+    // the messages are in time order so stop at the first message after the specified time
+    //
+    QueuedTimeStampOrderedMessage queuedTimeStampOrderedMessage;
+    for (Iterator<QueuedTimeStampOrderedMessage> i = retractables.iterator();
+         i.hasNext() && compareTime(queuedTimeStampOrderedMessage = i.next(), time, timeKey) <= 0; )
     {
-      QueuedTimeStampOrderedMessage queuedTimeStampOrderedMessage = i.next();
-      if (queuedTimeStampOrderedMessage.isRetracted() ||
-          ((keepChecking = queuedTimeStampOrderedMessage.getTime().compareTo(time) <= 0) &&
-           deliver(queuedTimeStampOrderedMessage, OrderType.TIMESTAMP)))
+      if (deliver(queuedTimeStampOrderedMessage, OrderType.TIMESTAMP))
       {
-        // remove if:
-        // - the message was retracted
-        //    - or -
-        // - the message is less than or equal to the specified time and was successfully delivered
+        // remove if the message was successfully delivered
 
         i.remove();
 
-        retractablesByMessageRetractionHandle.remove(
-          queuedTimeStampOrderedMessage.getTimeStampOrderedMessage().getMessageRetractionHandle());
+        retractablesByMessageRetractionHandle.remove(queuedTimeStampOrderedMessage.getMessageRetractionHandle());
+
+        removed(queuedTimeStampOrderedMessage);
+      }
+    }
+  }
+
+  /**
+   * Asks each of the specified queued messages whether it would be delivered.
+   */
+  private void decide(Set<QueuedTimeStampOrderedMessage> queuedTimeStampOrderedMessages)
+  {
+    for (QueuedTimeStampOrderedMessage queuedTimeStampOrderedMessage : queuedTimeStampOrderedMessages)
+    {
+      if (wouldDeliver(queuedTimeStampOrderedMessage))
+      {
+        deliverable.add(queuedTimeStampOrderedMessage);
+      }
+      else
+      {
+        deliverable.remove(queuedTimeStampOrderedMessage);
+      }
+    }
+  }
+
+  private void removed(QueuedTimeStampOrderedMessage queuedTimeStampOrderedMessage)
+  {
+    deliverable.remove(queuedTimeStampOrderedMessage);
+    undecided.remove(queuedTimeStampOrderedMessage);
+
+    group(queuedTimeStampOrderedMessage, false);
+  }
+
+  private void removedAll()
+  {
+    deliverable.clear();
+    undecided.clear();
+
+    queuedByInteractionClassHandle.clear();
+    queuedByObjectInstanceHandle.clear();
+
+    // anything restored has to be asked again
+    //
+    invalidateLITS();
+  }
+
+  /**
+   * Adds the specified queued message to, or removes it from, its group: the interactions of the same class or the
+   * messages of the same object instance.
+   */
+  private void group(QueuedTimeStampOrderedMessage queuedTimeStampOrderedMessage, boolean add)
+  {
+    switch (queuedTimeStampOrderedMessage.getTimeStampOrderedMessage().getMessageType())
+    {
+      case SEND_INTERACTION:
+        group(queuedByInteractionClassHandle, ((SendInteraction)
+          queuedTimeStampOrderedMessage.getTimeStampOrderedMessage()).getInteractionClassHandle(),
+              queuedTimeStampOrderedMessage, add);
+        break;
+      case UPDATE_ATTRIBUTE_VALUES:
+        group(queuedByObjectInstanceHandle, ((UpdateAttributeValues)
+          queuedTimeStampOrderedMessage.getTimeStampOrderedMessage()).getObjectInstanceHandle(),
+              queuedTimeStampOrderedMessage, add);
+        break;
+      case DELETE_OBJECT_INSTANCE:
+        group(queuedByObjectInstanceHandle, ((DeleteObjectInstance)
+          queuedTimeStampOrderedMessage.getTimeStampOrderedMessage()).getObjectInstanceHandle(),
+              queuedTimeStampOrderedMessage, add);
+        break;
+      default:
+        assert false;
+        throw new Error();
+    }
+  }
+
+  private <K> void group(
+    Map<K, Set<QueuedTimeStampOrderedMessage>> groups, K key,
+    QueuedTimeStampOrderedMessage queuedTimeStampOrderedMessage, boolean add)
+  {
+    Set<QueuedTimeStampOrderedMessage> group = groups.get(key);
+    if (add)
+    {
+      if (group == null)
+      {
+        groups.put(key, group = new LinkedHashSet<>());
       }
+      group.add(queuedTimeStampOrderedMessage);
+    }
+    else if (group != null && group.remove(queuedTimeStampOrderedMessage) && group.isEmpty())
+    {
+      groups.remove(key);
     }
   }
 
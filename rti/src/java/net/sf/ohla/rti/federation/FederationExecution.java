@@ -18,6 +18,8 @@ package net.sf.ohla.rti.federation;
 
 import java.io.IOException;
 
+import java.net.InetSocketAddress;
+
 import java.nio.file.Path;
 
 import java.util.HashMap;
@@ -25,6 +27,10 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -39,6 +45,7 @@ import net.sf.ohla.rti.i18n.LogMessages;
 import net.sf.ohla.rti.messages.AbortFederationRestore;
 import net.sf.ohla.rti.messages.AbortFederationRestoreResponse;
 import net.sf.ohla.rti.messages.AbortFederationSave;
+import net.sf.ohla.rti.messages.AcknowledgeLOTS;
 import net.sf.ohla.rti.messages.AssociateRegionsForUpdates;
 import net.sf.ohla.rti.messages.AssociateRegionsForUpdatesResponse;
 import net.sf.ohla.rti.messages.AttributeOwnershipAcquisition;
@@ -50,6 +57,7 @@ import net.sf.ohla.rti.messages.CancelNegotiatedAttributeOwnershipDivestiture;
 import net.sf.ohla.rti.messages.CommitRegionModifications;
 import net.sf.ohla.rti.messages.ConfirmDivestiture;
 import net.sf.ohla.rti.messages.CreateRegion;
+import net.sf.ohla.rti.messages.DatagramTransport;
 import net.sf.ohla.rti.messages.DeleteObjectInstance;
 import net.sf.ohla.rti.messages.DeleteRegion;
 import net.sf.ohla.rti.messages.DestroyFederationExecution;
@@ -111,6 +119,7 @@ import net.sf.ohla.rti.messages.SubscribeObjectClassAttributesWithRegions;
 import net.sf.ohla.rti.messages.SynchronizationPointAchieved;
 import net.sf.ohla.rti.messages.TimeAdvanceRequest;
 import net.sf.ohla.rti.messages.TimeAdvanceRequestAvailable;
+import net.sf.ohla.rti.messages.UpdateLOTS;
 import net.sf.ohla.rti.messages.UnassociateRegionsForUpdates;
 import net.sf.ohla.rti.messages.UnassociateRegionsForUpdatesResponse;
 import net.sf.ohla.rti.messages.UnconditionalAttributeOwnershipDivestiture;
@@ -122,13 +131,16 @@ import net.sf.ohla.rti.messages.UnsubscribeInteractionClassWithRegions;
 import net.sf.ohla.rti.messages.UnsubscribeObjectClassAttributes;
 import net.sf.ohla.rti.messages.UnsubscribeObjectClassAttributesWithRegions;
 import net.sf.ohla.rti.messages.UpdateAttributeValues;
+import net.sf.ohla.rti.messages.UpdateAttributeValuesBatch;
 import net.sf.ohla.rti.messages.callbacks.AnnounceSynchronizationPoint;
 import net.sf.ohla.rti.messages.callbacks.AttributeOwnershipAcquisitionNotification;
 import net.sf.ohla.rti.messages.callbacks.FederationNotSaved;
 import net.sf.ohla.rti.messages.callbacks.FederationRestoreStatusResponse;
 import net.sf.ohla.rti.messages.callbacks.FederationSaveStatusResponse;
 import net.sf.ohla.rti.messages.callbacks.FederationSynchronized;
+import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValuesBatch;
 import net.sf.ohla.rti.messages.callbacks.ReportInteractionTransportationType;
+import net.sf.ohla.rti.messages.callbacks.RequestFederationRestoreFailed;
 import net.sf.ohla.rti.messages.callbacks.RequestFederationRestoreSucceeded;
 import net.sf.ohla.rti.messages.callbacks.SynchronizationPointRegistrationFailed;
 import net.sf.ohla.rti.messages.callbacks.SynchronizationPointRegistrationSucceeded;
@@ -153,6 +165,7 @@ import hla.rti1516e.LogicalTime;
 import hla.rti1516e.LogicalTimeFactory;
 import hla.rti1516e.OrderType;
 import hla.rti1516e.RestoreStatus;
+import hla.rti1516e.SaveFailureReason;
 import hla.rti1516e.SaveStatus;
 import hla.rti1516e.SynchronizationPointFailureReason;
 import hla.rti1516e.exceptions.InconsistentFDD;
@@ -171,6 +184,13 @@ public class FederationExecution
   private FederationExecutionSave federationExecutionSave;
   private FederationExecutionRestore federationExecutionRestore;
 
+  /**
+   * The digest of the last successful save, the next save can be saved as a delta of it.
+   */
+  private FederationExecutionSaveDigest saveDigest;
+
+  private volatile FederationExecutionScheduledSave scheduledSave;
+
   private final Map<FederateHandle, FederateProxy> federates = new HashMap<>();
   private final Map<String, FederateProxy> federatesByName = new HashMap<>();
 
@@ -184,28 +204,59 @@ public class FederationExecution
   private final FederationExecutionRegionManager regionManager =
     new FederationExecutionRegionManager(this);
 
+  private final FederationExecutionRoutingTable routingTable = new FederationExecutionRoutingTable();
+
   private final FederationExecutionTimeManager timeManager;
 
-  private final TimeStampOrderedMessageQueue timeStampOrderedMessageQueue = new TimeStampOrderedMessageQueue(this);
+  private final TimeStampOrderedMessageQueue timeStampOrderedMessageQueue;
+
+  /**
+   * Delivers the messages of the joined federates so federation executions do not compete with each other for
+   * threads.
+   */
+  private final ExecutorService executor;
+
+  /**
+   * Sends {@code HLAbestEffort} messages as datagrams, {@code null} if they are sent reliably.
+   */
+  private final DatagramTransport datagramTransport;
 
   private final Marker marker;
   private final I18nLogger log;
 
   private int nextFederateHandle;
 
-  public FederationExecution(String name, FDD fdd, LogicalTimeFactory logicalTimeFactory, Path savesDirectory)
+  public FederationExecution(
+    final String name, FDD fdd, LogicalTimeFactory logicalTimeFactory, Path savesDirectory, int cores,
+    DatagramTransport datagramTransport)
   {
     this.name = name;
     this.fdd = fdd;
+    this.datagramTransport = datagramTransport;
 
     saveDirectory = savesDirectory.resolve(name);
 
     timeManager = new FederationExecutionTimeManager(this, logicalTimeFactory);
+    timeStampOrderedMessageQueue = new TimeStampOrderedMessageQueue(this);
+
+    executor = Executors.newFixedThreadPool(cores, new ThreadFactory()
+    {
+      private final AtomicInteger count = new AtomicInteger();
+
+      public Thread newThread(Runnable runnable)
+      {
+        // a federation execution that is never destroyed must not keep the JVM alive
+        //
+        Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
 
     marker = MarkerFactory.getMarker(name);
     log = I18nLogger.getLogger(marker, FederationExecution.class);
 
-    log.debug(LogMessages.FEDERATION_EXECUTION_CREATED);
+    log.debug(LogMessages.FEDERATION_EXECUTION_CREATED, cores);
   }
 
   public String getName()
@@ -223,11 +274,59 @@ public class FederationExecution
     return marker;
   }
 
+  public ExecutorService getExecutor()
+  {
+    return executor;
+  }
+
   public Path getSaveDirectory()
   {
     return saveDirectory;
   }
 
+  /**
+   * Returns the {@link DatagramTransport} {@code HLAbestEffort} messages are sent on, or {@code null} if they are sent
+   * reliably.
+   */
+  public DatagramTransport getDatagramTransport()
+  {
+    return datagramTransport;
+  }
+
+  /**
+   * Returns the receivers of an update of the specified object class through its multicast group, or {@code null}
+   * if neither it nor its superclasses are assigned one.
+   */
+  public DatagramGroupReceivers getDatagramGroupReceivers(ObjectClass objectClass)
+  {
+    InetSocketAddress group = null;
+    if (datagramTransport != null)
+    {
+      for (; objectClass != null && group == null; objectClass = objectClass.getSuperObjectClass())
+      {
+        group = datagramTransport.getGroup(objectClass.getObjectClassName());
+      }
+    }
+    return group == null ? null : new DatagramGroupReceivers(datagramTransport, group);
+  }
+
+  /**
+   * Returns the receivers of an interaction of the specified interaction class through its multicast group, or
+   * {@code null} if neither it nor its superclasses are assigned one.
+   */
+  public DatagramGroupReceivers getDatagramGroupReceivers(InteractionClass interactionClass)
+  {
+    InetSocketAddress group = null;
+    if (datagramTransport != null)
+    {
+      for (; interactionClass != null && group == null; interactionClass = interactionClass.getSuperInteractionClass())
+      {
+        group = datagramTransport.getGroup(interactionClass.getInteractionClassName());
+      }
+    }
+    return group == null ? null : new DatagramGroupReceivers(datagramTransport, group);
+  }
+
   /**
    * Returns the current {@link FederateProxy} joined to this {@code FederationExecution} with the specified
    * {@link FederateHandle}.
@@ -263,6 +362,16 @@ public class FederationExecution
     return federatesByName;
   }
 
+  public FederationExecutionSaveDigest getSaveDigest()
+  {
+    return saveDigest;
+  }
+
+  public void setSaveDigest(FederationExecutionSaveDigest saveDigest)
+  {
+    this.saveDigest = saveDigest;
+  }
+
   public FederationExecutionObjectManager getObjectManager()
   {
     return objectManager;
@@ -278,6 +387,11 @@ public class FederationExecution
     return timeManager;
   }
 
+  public FederationExecutionRoutingTable getRoutingTable()
+  {
+    return routingTable;
+  }
+
   public LogicalTimeFactory getLogicalTimeFactory()
   {
     return timeManager.getLogicalTimeFactory();
@@ -299,6 +413,10 @@ public class FederationExecution
       {
         log.debug(LogMessages.FEDERATION_EXECUTION_DESTROYED);
 
+        // any messages still being delivered are from resigned federates
+        //
+        executor.shutdown();
+
         response = new DestroyFederationExecutionResponse(destroyFederationExecution.getRequestId());
       }
       else
@@ -377,16 +495,44 @@ public class FederationExecution
             federateName = "HLA-Federate-" + federateHandle.toString();
           }
 
+          // the federate receives datagrams on the address it is connected from
+          //
+          InetSocketAddress datagramAddress;
+          if (datagramTransport == null || !joinFederationExecution.hasDatagramPort())
+          {
+            datagramAddress = null;
+          }
+          else
+          {
+            datagramAddress = new InetSocketAddress(
+              ((InetSocketAddress) context.getChannel().getRemoteAddress()).getAddress(),
+              joinFederationExecution.getDatagramPort());
+          }
+
           FederateProxy federateProxy = new FederateProxy(
-            this, federateHandle, federateName, federateType, context.getChannel(), timeManager.getGALT());
+            this, federateHandle, federateName, federateType, context.getChannel(), datagramAddress,
+            timeManager.getGALT());
 
           context.setAttachment(federateProxy);
 
           federates.put(federateHandle, federateProxy);
           federatesByName.put(federateName, federateProxy);
 
-          context.getChannel().write(new JoinFederationExecutionResponse(
-            federateName, federateHandle, fdd, timeManager.getLogicalTimeFactory().getName()));
+          if (datagramAddress == null)
+          {
+            context.getChannel().write(new JoinFederationExecutionResponse(
+              federateName, federateHandle, fdd, timeManager.getLogicalTimeFactory().getName(),
+              timeManager.isDistributed(), timeManager.isOptimistic()));
+          }
+          else
+          {
+            datagramTransport.addPeer(datagramAddress, context.getChannel());
+
+            context.getChannel().write(new JoinFederationExecutionResponse(
+              federateName, federateHandle, fdd, timeManager.getLogicalTimeFactory().getName(),
+              timeManager.isDistributed(), timeManager.isOptimistic(), datagramTransport.getLocalAddress().getPort(),
+              datagramTransport.getGroups()));
+          }
 
           for (FederationExecutionSynchronizationPoint synchronizationPoint : synchronizationPoints.values())
           {
@@ -436,10 +582,14 @@ public class FederationExecution
       federates.remove(federateProxy.getFederateHandle());
       federatesByName.remove(federateProxy.getFederateName());
 
+      routingTable.remove(federateProxy);
+
       resignedFederates.put(federateProxy.getFederateHandle(), new ResignedFederate(federateProxy));
 
       objectManager.resignFederationExecution(federateProxy, resignFederationExecution);
 
+      timeManager.resignFederationExecution(federateProxy);
+
       federateProxy.resignFederationExecution(resignFederationExecution.getResignAction());
     }
     finally
@@ -508,10 +658,11 @@ public class FederationExecution
 
             federateProxy.getFederateChannel().write(new SynchronizationPointRegistrationSucceeded(label));
 
-            AnnounceSynchronizationPoint announceSynchronizationPoint = new AnnounceSynchronizationPoint(label, tag);
+            // every federate gets its own message, an embedded federate executes the message it is sent
+            //
             for (FederateHandle federateHandle : federateHandles)
             {
-              federates.get(federateHandle).announceSynchronizationPoint(announceSynchronizationPoint);
+              federates.get(federateHandle).announceSynchronizationPoint(new AnnounceSynchronizationPoint(label, tag));
             }
           }
         }
@@ -544,8 +695,6 @@ public class FederationExecution
         if (federationExecutionSynchronizationPoint.synchronizationPointAchieved(
           federateProxy.getFederateHandle(), success))
         {
-          FederationSynchronized federationSynchronized = new FederationSynchronized(
-            label, federationExecutionSynchronizationPoint.getFailedToSynchronize());
           for (FederateHandle federateHandle : federationExecutionSynchronizationPoint.getFederateHandles())
           {
             FederateProxy synchronizedFederateProxy = federates.get(federateHandle);
@@ -556,7 +705,8 @@ public class FederationExecution
             }
             else
             {
-              synchronizedFederateProxy.getFederateChannel().write(federationSynchronized);
+              synchronizedFederateProxy.getFederateChannel().write(new FederationSynchronized(
+                label, federationExecutionSynchronizationPoint.getFailedToSynchronize()));
             }
           }
         }
@@ -586,16 +736,11 @@ public class FederationExecution
           requestFederationSave.getRequestId(),
           FederateMessageProtos.RequestFederationSaveResponse.Failure.Cause.RESTORE_IN_PROGRESS));
       }
-      else if (federationExecutionSave == null)
-      {
-        createFederationExecutionSave(federateProxy, requestFederationSave);
-      }
       else
       {
-        assert federationExecutionSave.getSaveTime() != null;
-        assert federationExecutionSave.getInstructedToSave().isEmpty();
-
-        // TODO: unschedule
+        // a request to save the federation replaces the scheduled save
+        //
+        scheduledSave = null;
 
         createFederationExecutionSave(federateProxy, requestFederationSave);
       }
@@ -639,6 +784,8 @@ public class FederationExecution
         federationExecutionSave.federationSaved(federates);
 
         federationExecutionSave = null;
+
+        federationSaveOver();
       }
     }
     finally
@@ -658,14 +805,16 @@ public class FederationExecution
 
       if (federationExecutionSave.federateSaveNotComplete(federateProxy.getFederateHandle()))
       {
-        FederationNotSaved federationNotSaved = new FederationNotSaved(federationExecutionSave.getSaveFailureReason());
-
         for (FederateProxy f : federates.values())
         {
-          f.federationNotSaved(federationNotSaved);
+          f.federationNotSaved(new FederationNotSaved(federationExecutionSave.getSaveFailureReason()));
         }
 
         federationExecutionState = FederationExecutionState.ACTIVE;
+
+        federationExecutionSave = null;
+
+        federationSaveOver();
       }
     }
     finally
@@ -767,9 +916,15 @@ public class FederationExecution
         }
         catch (IOException ioe)
         {
-          // TODO: write an error message
+          log.warn(LogMessages.UNABLE_TO_INITIATE_FEDERATION_RESTORE, ioe, requestFederationRestore.getLabel());
+
+          // the save is missing, unreadable or a delta of a save that has since been replaced
+          //
+          federateProxy.getFederateChannel().write(
+            new RequestFederationRestoreResponse(requestFederationRestore.getRequestId()));
 
-          ioe.printStackTrace();
+          federateProxy.requestFederationRestoreFailed(
+            new RequestFederationRestoreFailed(requestFederationRestore.getLabel()));
         }
       }
     }
@@ -793,6 +948,8 @@ public class FederationExecution
         federates.clear();
         federatesByName.clear();
 
+        routingTable.clear();
+
         federationExecutionRestore.federationRestored();
 
         federationExecutionState = FederationExecutionState.ACTIVE;
@@ -1047,6 +1204,41 @@ public class FederationExecution
     }
   }
 
+  /**
+   * Fans a batch of receive order updates out as if they had been sent one at a time, except that each reflecting
+   * federate is sent its reliable reflections as one batch once the whole batch has been fanned out.
+   */
+  public void updateAttributeValues(
+    FederateProxy producingFederateProxy, UpdateAttributeValuesBatch updateAttributeValuesBatch)
+  {
+    federationExecutionStateLock.readLock().lock();
+    regionManager.getRegionsLock().readLock().lock();
+    try
+    {
+      if (producingFederateProxy.isSaving())
+      {
+        saveMessage(producingFederateProxy.getFederateHandle(), updateAttributeValuesBatch);
+      }
+      else
+      {
+        Map<FederateProxy, ReflectAttributeValuesBatch> reflectAttributeValuesBatches = new HashMap<>();
+
+        objectManager.updateAttributeValues(
+          producingFederateProxy, updateAttributeValuesBatch, reflectAttributeValuesBatches);
+
+        for (Map.Entry<FederateProxy, ReflectAttributeValuesBatch> entry : reflectAttributeValuesBatches.entrySet())
+        {
+          entry.getKey().reflectAttributeValues(entry.getValue());
+        }
+      }
+    }
+    finally
+    {
+      regionManager.getRegionsLock().readLock().unlock();
+      federationExecutionStateLock.readLock().unlock();
+    }
+  }
+
   public boolean reflectAttributeValues(
     FederateProxy receivingFederateProxy, FederateHandle producingFederateHandle,
     UpdateAttributeValues updateAttributeValues, OrderType orderType)
@@ -1081,13 +1273,25 @@ public class FederationExecution
       }
       else
       {
-        for (FederateProxy federateProxy : federates.values())
+        InteractionClass interactionClass = fdd.getInteractionClassSafely(sendInteraction.getInteractionClassHandle());
+
+        DatagramGroupReceivers groupReceivers = getDatagramGroupReceivers(interactionClass);
+
+        // only visit the federates that could receive the interaction
+        //
+        for (FederateProxy federateProxy : routingTable.getReceivingFederates(
+          interactionClass, sendInteraction.getSentOrderType() == OrderType.TIMESTAMP))
         {
           if (federateProxy != producingFederateProxy)
           {
-            federateProxy.receiveInteraction(producingFederateProxy.getFederateHandle(), sendInteraction);
+            federateProxy.receiveInteraction(producingFederateProxy.getFederateHandle(), sendInteraction, groupReceivers);
           }
         }
+
+        if (groupReceivers != null)
+        {
+          groupReceivers.receiveInteraction(producingFederateProxy.getFederateHandle(), sendInteraction);
+        }
       }
     }
     finally
@@ -1808,6 +2012,10 @@ public class FederationExecution
       {
         saveMessage(federateProxy.getFederateHandle(), enableTimeRegulation);
       }
+      else if (timeManager.isDistributed())
+      {
+        timeManager.enableDistributedTimeRegulation(federateProxy, enableTimeRegulation);
+      }
       else
       {
         timeManager.enableTimeRegulation(federateProxy, enableTimeRegulation);
@@ -1828,6 +2036,10 @@ public class FederationExecution
       {
         saveMessage(federateProxy.getFederateHandle(), disableTimeRegulation);
       }
+      else if (timeManager.isDistributed())
+      {
+        timeManager.disableDistributedTimeRegulation(federateProxy);
+      }
       else
       {
         timeManager.disableTimeRegulation(federateProxy);
@@ -1848,6 +2060,10 @@ public class FederationExecution
       {
         saveMessage(federateProxy.getFederateHandle(), enableTimeConstrained);
       }
+      else if (timeManager.isDistributed())
+      {
+        timeManager.enableDistributedTimeConstrained(federateProxy);
+      }
       else
       {
         timeManager.enableTimeConstrained(federateProxy);
@@ -1868,6 +2084,10 @@ public class FederationExecution
       {
         saveMessage(federateProxy.getFederateHandle(), disableTimeConstrained);
       }
+      else if (timeManager.isDistributed())
+      {
+        timeManager.disableDistributedTimeConstrained(federateProxy);
+      }
       else
       {
         timeManager.disableTimeConstrained(federateProxy);
@@ -1925,6 +2145,32 @@ public class FederationExecution
     }
   }
 
+  public void updateLOTS(FederateProxy federateProxy, UpdateLOTS updateLOTS)
+  {
+    federationExecutionStateLock.readLock().lock();
+    try
+    {
+      timeManager.updateLOTS(federateProxy, updateLOTS);
+    }
+    finally
+    {
+      federationExecutionStateLock.readLock().unlock();
+    }
+  }
+
+  public void acknowledgeLOTS(FederateProxy federateProxy, AcknowledgeLOTS acknowledgeLOTS)
+  {
+    federationExecutionStateLock.readLock().lock();
+    try
+    {
+      timeManager.acknowledgeLOTS(federateProxy, acknowledgeLOTS);
+    }
+    finally
+    {
+      federationExecutionStateLock.readLock().unlock();
+    }
+  }
+
   public void timeAdvanceRequest(FederateProxy federateProxy, TimeAdvanceRequest timeAdvanceRequest)
   {
     federationExecutionStateLock.readLock().lock();
@@ -2070,6 +2316,8 @@ public class FederationExecution
       else
       {
         regionManager.commitRegionModifications(federateProxy, commitRegionModifications);
+
+        invalidateLITS();
       }
     }
     finally
@@ -2113,6 +2361,8 @@ public class FederationExecution
       else
       {
         objectManager.associateRegionsForUpdates(federateProxy, associateRegionsForUpdates);
+
+        invalidateLITS();
       }
     }
     finally
@@ -2136,6 +2386,8 @@ public class FederationExecution
       else
       {
         objectManager.unassociateRegionsForUpdates(federateProxy, unassociateRegionsForUpdates);
+
+        invalidateLITS();
       }
     }
     finally
@@ -2270,9 +2522,20 @@ public class FederationExecution
 
   public void galtUpdated(LogicalTime galt)
   {
-    timeStampOrderedMessageQueue.expire(galt);
+    if (timeManager.isOptimistic())
+    {
+      // a rolled back federate may retract a message at the GVT
+      //
+      timeStampOrderedMessageQueue.expireBefore(galt);
+    }
+    else
+    {
+      timeStampOrderedMessageQueue.expire(galt);
+    }
 
     objectManager.galtUpdated(galt);
+
+    triggerScheduledFederationSave(galt);
   }
 
   public void galtUndefined()
@@ -2280,8 +2543,17 @@ public class FederationExecution
     timeStampOrderedMessageQueue.clear();
 
     objectManager.galtUndefined();
+
+    triggerScheduledFederationSave(null);
   }
 
+  /**
+   * Saves the state of the federation execution. The state of the object, region and time managers is saved separately,
+   * see {@link FederationExecutionSave}.
+   *
+   * @param out the stream to save to
+   * @throws IOException if an I/O error occurs
+   */
   public void saveState(CodedOutputStream out)
     throws IOException
   {
@@ -2297,9 +2569,11 @@ public class FederationExecution
     {
       out.writeMessageNoTag(synchronizationPoint.saveState().build());
     }
+  }
 
-    objectManager.saveState(out);
-    regionManager.saveState(out);
+  public void saveTimeState(CodedOutputStream out)
+    throws IOException
+  {
     timeManager.saveState(out);
     timeStampOrderedMessageQueue.saveState(out);
   }
@@ -2322,9 +2596,11 @@ public class FederationExecution
         new FederationExecutionSynchronizationPoint(synchonizationPointState);
       synchronizationPoints.put(synchronizationPoint.getLabel(), synchronizationPoint);
     }
+  }
 
-    objectManager.restoreState(in);
-    regionManager.restoreState(in);
+  public void restoreTimeState(CodedInputStream in)
+    throws IOException
+  {
     timeManager.restoreState(in);
     timeStampOrderedMessageQueue.restoreState(in);
   }
@@ -2417,27 +2693,137 @@ public class FederationExecution
   private void scheduleFederationExecutionSave(
     FederateProxy federateProxy, RequestFederationSave requestFederationSave, LogicalTime time)
   {
-    String label = requestFederationSave.getLabel();
+    scheduledSave = new FederationExecutionScheduledSave(
+      requestFederationSave.getLabel(), time, requestFederationSave.getInterval(timeManager.getLogicalTimeFactory()));
 
+    // tell the federate that the request is going to be honored
+    //
+    federateProxy.getFederateChannel().write(new RequestFederationSaveResponse(requestFederationSave.getRequestId()));
+
+    triggerScheduledFederationSave(timeManager.getGALT());
+  }
+
+  private void triggerScheduledFederationSave(LogicalTime galt)
+  {
+    final FederationExecutionScheduledSave scheduledSave = this.scheduledSave;
+    if (scheduledSave != null && scheduledSave.trigger(galt))
+    {
+      // the GALT is updated while the federation execution state is locked, the save has to be started later
+      //
+      executor.execute(new Runnable()
+      {
+        public void run()
+        {
+          startScheduledFederationSave(scheduledSave);
+        }
+      });
+    }
+  }
+
+  private void startScheduledFederationSave(FederationExecutionScheduledSave scheduledSave)
+  {
+    federationExecutionStateLock.writeLock().lock();
     try
     {
-      federationExecutionSave = new FederationExecutionSave(this, label, time);
+      if (scheduledSave != this.scheduledSave)
+      {
+        // the scheduled save was replaced
+      }
+      else if (saveInProgress() || restoreInProgress())
+      {
+        // triggered again once the save or restore is over
 
-      // tell the federate that the request is going to be honored
-      //
-      federateProxy.getFederateChannel().write(new RequestFederationSaveResponse(requestFederationSave.getRequestId()));
+        scheduledSave.reset();
+      }
+      else
+      {
+        scheduledSave.started();
+
+        if (!scheduledSave.isRecurring())
+        {
+          this.scheduledSave = null;
+        }
+
+        try
+        {
+          federationExecutionSave =
+            new FederationExecutionSave(this, scheduledSave.getLabel(), scheduledSave.getSaveTime());
+
+          federationExecutionState = FederationExecutionState.SAVE_IN_PROGRESS;
 
-      // TODO: schedule save
+          try
+          {
+            // notify all federates to initiate save
+            //
+            for (FederateProxy f : federates.values())
+            {
+              f.initiateFederateSave(federationExecutionSave);
+            }
+          }
+          catch (IOException ioe)
+          {
+            log.warn(LogMessages.UNABLE_TO_INITIATE_FEDERATE_SAVE, ioe);
+
+            cancelFederationSave();
+          }
+        }
+        catch (IOException ioe)
+        {
+          log.warn(LogMessages.UNABLE_TO_INITIATE_FEDERATION_SAVE, ioe);
+
+          federationExecutionSave = null;
+
+          federationSaveOver();
+        }
+      }
     }
-    catch (IOException ioe)
+    finally
     {
-      log.warn(LogMessages.UNABLE_TO_INITIATE_FEDERATION_SAVE, ioe);
+      federationExecutionStateLock.writeLock().unlock();
+    }
+  }
 
-      // TODO: possibly send some text detailing the error?
+  /**
+   * Cancels a save that could not be initiated at every federate. The federates that were instructed to save are told
+   * the federation was not saved.
+   */
+  private void cancelFederationSave()
+  {
+    for (FederateHandle federateHandle : federationExecutionSave.getInstructedToSave())
+    {
+      federates.get(federateHandle).federationNotSaved(new FederationNotSaved(SaveFailureReason.RTI_UNABLE_TO_SAVE));
+    }
 
-      federateProxy.getFederateChannel().write(new RequestFederationSaveResponse(
-        requestFederationSave.getRequestId(),
-        FederateMessageProtos.RequestFederationSaveResponse.Failure.Cause.RTI_INTERNAL_ERROR));
+    federationExecutionState = FederationExecutionState.ACTIVE;
+
+    federationExecutionSave = null;
+
+    federationSaveOver();
+  }
+
+  /**
+   * Reschedules the recurring save once the save it started is over, and triggers the scheduled save if the GALT
+   * passed it while the federation was saving. While the GALT is undefined a recurring save is not triggered again,
+   * every later save time would be passed at once, it waits for the GALT to be defined and pass it.
+   */
+  private void federationSaveOver()
+  {
+    FederationExecutionScheduledSave scheduledSave = this.scheduledSave;
+    if (scheduledSave != null)
+    {
+      LogicalTime galt = timeManager.getGALT();
+      if (!scheduledSave.isStarted())
+      {
+        triggerScheduledFederationSave(galt);
+      }
+      else if (!scheduledSave.next())
+      {
+        this.scheduledSave = null;
+      }
+      else if (galt != null)
+      {
+        triggerScheduledFederationSave(galt);
+      }
     }
   }
 
@@ -2451,6 +2837,18 @@ public class FederationExecution
     return federationExecutionState == FederationExecutionState.RESTORE_IN_PROGRESS;
   }
 
+  /**
+   * Invalidates the LITS of every federate since region changes can change which queued time stamp ordered messages
+   * would be delivered.
+   */
+  private void invalidateLITS()
+  {
+    for (FederateProxy federateProxy : federates.values())
+    {
+      federateProxy.invalidateLITS();
+    }
+  }
+
   private void saveMessage(FederateHandle federateHandle, FederationExecutionMessage message)
   {
     try
@@ -2459,7 +2857,9 @@ public class FederationExecution
     }
     catch (IOException ioe)
     {
-      // TODO: unwind the save
+      // the federation is not saved when the save completes
+      //
+      federationExecutionSave.saveFileFailed(ioe);
     }
   }
 }
@@ -49,6 +49,7 @@ import net.sf.ohla.rti.messages.callbacks.AttributeOwnershipUnavailable;
 import net.sf.ohla.rti.messages.callbacks.ConfirmAttributeOwnershipAcquisitionCancellation;
 import net.sf.ohla.rti.messages.callbacks.InformAttributeOwnership;
 import net.sf.ohla.rti.messages.callbacks.ProvideAttributeValueUpdate;
+import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValuesBatch;
 import net.sf.ohla.rti.messages.callbacks.RequestAttributeOwnershipRelease;
 import net.sf.ohla.rti.messages.callbacks.RequestDivestitureConfirmation;
 import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState;
@@ -60,6 +61,7 @@ import hla.rti1516e.AttributeSetRegionSetPairList;
 import hla.rti1516e.DimensionHandle;
 import hla.rti1516e.FederateHandle;
 import hla.rti1516e.ObjectInstanceHandle;
+import hla.rti1516e.OrderType;
 import hla.rti1516e.RangeBounds;
 import hla.rti1516e.RegionHandle;
 
@@ -77,6 +79,11 @@ public class FederationExecutionObjectInstance
 
   private DeleteObjectInstance deleteObjectInstance;
 
+  /**
+   * Stamped by the {@link FederationExecutionObjectManager} each time this object instance is modified.
+   */
+  private volatile long modification;
+
   public FederationExecutionObjectInstance(
     ObjectInstanceHandle objectInstanceHandle, ObjectClass objectClass,
     String objectInstanceName, Set<AttributeHandle> publishedAttributeHandles,
@@ -175,23 +182,61 @@ public class FederationExecutionObjectInstance
     this.deleteObjectInstance = deleteObjectInstance;
   }
 
+  public long getModification()
+  {
+    return modification;
+  }
+
+  public void setModification(long modification)
+  {
+    this.modification = modification;
+  }
+
   public FederateHandle getOwner(AttributeHandle attributeHandle)
   {
     return attributes.get(attributeHandle).getOwner();
   }
 
   public void updateAttributeValues(FederateProxy producingFederateProxy, UpdateAttributeValues updateAttributeValues)
+  {
+    updateAttributeValues(producingFederateProxy, updateAttributeValues, null);
+  }
+
+  /**
+   * Fans the specified update out to the reflecting federates.
+   *
+   * @param reflectAttributeValuesBatches the batches the reliable reflections are added to, or {@code null} if they
+   *                                      are to be sent right away
+   */
+  public void updateAttributeValues(
+    FederateProxy producingFederateProxy, UpdateAttributeValues updateAttributeValues,
+    Map<FederateProxy, ReflectAttributeValuesBatch> reflectAttributeValuesBatches)
   {
     objectLock.readLock().lock();
     try
     {
-      for (FederateProxy federateProxy : producingFederateProxy.getFederationExecution().getFederates().values())
+      DatagramGroupReceivers groupReceivers =
+        producingFederateProxy.getFederationExecution().getDatagramGroupReceivers(objectClass);
+
+      // only visit the federates that could reflect the update
+      //
+      for (FederateProxy federateProxy :
+        producingFederateProxy.getFederationExecution().getRoutingTable().getReflectingFederates(
+          objectClass, updateAttributeValues.getBuilder().getAttributeValuesList(),
+          updateAttributeValues.getSentOrderType() == OrderType.TIMESTAMP))
       {
         if (federateProxy != producingFederateProxy)
         {
-          federateProxy.reflectAttributeValues(producingFederateProxy.getFederateHandle(), updateAttributeValues, this);
+          federateProxy.reflectAttributeValues(
+            producingFederateProxy.getFederateHandle(), updateAttributeValues, this, groupReceivers,
+            reflectAttributeValuesBatches);
         }
       }
+
+      if (groupReceivers != null)
+      {
+        groupReceivers.reflectAttributeValues(producingFederateProxy.getFederateHandle(), updateAttributeValues);
+      }
     }
     finally
     {
@@ -18,11 +18,14 @@ package net.sf.ohla.rti.federation;
 
 import java.io.IOException;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -44,13 +47,17 @@ import net.sf.ohla.rti.messages.Retract;
 import net.sf.ohla.rti.messages.UnassociateRegionsForUpdates;
 import net.sf.ohla.rti.messages.UnassociateRegionsForUpdatesResponse;
 import net.sf.ohla.rti.messages.UpdateAttributeValues;
+import net.sf.ohla.rti.messages.UpdateAttributeValuesBatch;
 import net.sf.ohla.rti.messages.callbacks.MultipleObjectInstanceNameReservationFailed;
 import net.sf.ohla.rti.messages.callbacks.MultipleObjectInstanceNameReservationSucceeded;
 import net.sf.ohla.rti.messages.callbacks.ObjectInstanceNameReservationFailed;
 import net.sf.ohla.rti.messages.callbacks.ObjectInstanceNameReservationSucceeded;
+import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValuesBatch;
 import net.sf.ohla.rti.messages.proto.FederateMessageProtos;
 import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionState.FederationExecutionObjectManagerState;
+import net.sf.ohla.rti.proto.OHLAProtos;
 import net.sf.ohla.rti.util.FederateHandles;
+import net.sf.ohla.rti.util.ObjectInstanceHandles;
 import net.sf.ohla.rti.util.Retractable;
 import net.sf.ohla.rti.util.RetractableManager;
 
@@ -78,6 +85,11 @@ public class FederationExecutionObjectManager
 
   private final RetractableManager<ScheduledDelete> scheduledDeletes = new RetractableManager<>();
 
+  /**
+   * Stamps each object instance as it is modified, see {@link #saveState(CodedOutputStream, Map, Map)}.
+   */
+  private final AtomicLong modifications = new AtomicLong();
+
   private final I18nLogger log;
 
   public FederationExecutionObjectManager(FederationExecution federationExecution)
@@ -116,6 +128,8 @@ public class FederationExecutionObjectManager
           for (FederationExecutionObjectInstance objectInstance : objects.values())
           {
             objectInstance.unconditionallyDivestAttributes(resigningFederateProxy);
+
+            modified(objectInstance);
           }
           break;
         case DELETE_OBJECTS:
@@ -138,6 +152,8 @@ public class FederationExecutionObjectManager
           for (FederationExecutionObjectInstance objectInstance : objects.values())
           {
             objectInstance.cancelPendingOwnershipAcquisitions(resigningFederateProxy);
+
+            modified(objectInstance);
           }
           break;
         case DELETE_OBJECTS_THEN_DIVEST:
@@ -157,6 +173,8 @@ public class FederationExecutionObjectManager
             else
             {
               objectInstance.unconditionallyDivestAttributes(resigningFederateProxy);
+
+              modified(objectInstance);
             }
           }
           break;
@@ -167,6 +185,8 @@ public class FederationExecutionObjectManager
 
             objectInstance.cancelPendingOwnershipAcquisitions(resigningFederateProxy);
 
+            modified(objectInstance);
+
             if (objectInstance.isOwner(resigningFederateProxy))
             {
               i.remove();
@@ -180,6 +200,8 @@ public class FederationExecutionObjectManager
             else
             {
               objectInstance.unconditionallyDivestAttributes(resigningFederateProxy);
+
+              modified(objectInstance);
             }
           }
           break;
@@ -390,6 +412,8 @@ public class FederationExecutionObjectManager
         if (objectInstance != null)
         {
           objectInstance.unpublishObjectClass(federationExecution, federateProxy);
+
+          modified(objectInstance);
         }
       }
     }
@@ -413,6 +437,8 @@ public class FederationExecutionObjectManager
         if (objectInstance != null)
         {
           objectInstance.unpublishObjectClassAttributes(federationExecution, federateProxy, attributeHandles);
+
+          modified(objectInstance);
         }
       }
     }
@@ -578,6 +604,8 @@ public class FederationExecutionObjectManager
     try
     {
       objects.put(objectInstanceHandle, objectInstance);
+
+      modified(objectInstance);
     }
     finally
     {
@@ -604,6 +632,29 @@ public class FederationExecutionObjectManager
     }
   }
 
+  public void updateAttributeValues(
+    FederateProxy producingFederateProxy, UpdateAttributeValuesBatch updateAttributeValuesBatch,
+    Map<FederateProxy, ReflectAttributeValuesBatch> reflectAttributeValuesBatches)
+  {
+    objectsLock.readLock().lock();
+    try
+    {
+      for (UpdateAttributeValues updateAttributeValues : updateAttributeValuesBatch.getUpdates())
+      {
+        FederationExecutionObjectInstance objectInstance = objects.get(updateAttributeValues.getObjectInstanceHandle());
+        if (objectInstance != null)
+        {
+          objectInstance.updateAttributeValues(
+            producingFederateProxy, updateAttributeValues, reflectAttributeValuesBatches);
+        }
+      }
+    }
+    finally
+    {
+      objectsLock.readLock().unlock();
+    }
+  }
+
   public boolean reflectAttributeValues(
     FederateProxy receivingFederateProxy, FederateHandle producingFederateHandle,
     UpdateAttributeValues updateAttributeValues, OrderType orderType)
@@ -648,6 +699,8 @@ public class FederationExecutionObjectManager
       else
       {
         objectInstance.unconditionalAttributeOwnershipDivestiture(owner, attributeHandles);
+
+        modified(objectInstance);
       }
     }
     finally
@@ -671,6 +724,8 @@ public class FederationExecutionObjectManager
       else
       {
         objectInstance.negotiatedAttributeOwnershipDivestiture(owner, attributeHandles, tag);
+
+        modified(objectInstance);
       }
     }
     finally
@@ -693,6 +748,8 @@ public class FederationExecutionObjectManager
       else
       {
         objectInstance.confirmDivestiture(owner, attributeHandles);
+
+        modified(objectInstance);
       }
     }
     finally
@@ -716,6 +773,8 @@ public class FederationExecutionObjectManager
       else
       {
         objectInstance.attributeOwnershipAcquisition(acquiree, attributeHandles, tag);
+
+        modified(objectInstance);
       }
     }
     finally
@@ -739,6 +798,8 @@ public class FederationExecutionObjectManager
       else
       {
         objectInstance.attributeOwnershipAcquisitionIfAvailable(acquiree, attributeHandles);
+
+        modified(objectInstance);
       }
     }
     finally
@@ -767,6 +828,8 @@ public class FederationExecutionObjectManager
       {
         divestitures = objectInstance.attributeOwnershipDivestitureIfWanted(
           federationExecution, owner, attributeHandles);
+
+        modified(objectInstance);
       }
     }
     finally
@@ -787,6 +850,8 @@ public class FederationExecutionObjectManager
       if (objectInstance != null)
       {
         objectInstance.cancelNegotiatedAttributeOwnershipDivestiture(owner, attributeHandles);
+
+        modified(objectInstance);
       }
     }
     finally
@@ -805,6 +870,8 @@ public class FederationExecutionObjectManager
       if (objectInstance != null)
       {
         objectInstance.cancelAttributeOwnershipAcquisition(acquiree, attributeHandles);
+
+        modified(objectInstance);
       }
     }
     finally
@@ -856,6 +923,8 @@ public class FederationExecutionObjectManager
       else
       {
         objectInstance.associateRegionsForUpdates(federateProxy, associateRegionsForUpdates);
+
+        modified(objectInstance);
       }
     }
     finally
@@ -883,6 +952,8 @@ public class FederationExecutionObjectManager
       else
       {
         objectInstance.unassociateRegionsForUpdates(federateProxy, unassociateRegionsForUpdates);
+
+        modified(objectInstance);
       }
     }
     finally
@@ -932,13 +1003,55 @@ public class FederationExecutionObjectManager
     scheduledDeletes.expireAll();
   }
 
-  public void saveState(CodedOutputStream out)
+  /**
+   * Saves the state of the object manager. If the modification stamps of the object instances saved by the previous
+   * save are specified, only the object instances modified since then, and the handles of those that were deleted, are
+   * saved.
+   *
+   * @param out the stream to save to
+   * @param savedObjectInstanceStates the modification stamps of the object instances saved by the previous save, or
+   *                                  {@code null} to save every object instance
+   * @param objectInstanceStates receives the modification stamp of every object instance
+   * @throws IOException if an I/O error occurs
+   */
+  public void saveState(
+    CodedOutputStream out, Map<ObjectInstanceHandle, Long> savedObjectInstanceStates,
+    Map<ObjectInstanceHandle, Long> objectInstanceStates)
     throws IOException
   {
     FederationExecutionObjectManagerState.Builder objectManagerState = FederationExecutionObjectManagerState.newBuilder();
 
+    List<FederationExecutionObjectInstance> modifiedObjectInstances = new ArrayList<>();
+    for (FederationExecutionObjectInstance federationExecutionObjectInstance : objects.values())
+    {
+      long modification = federationExecutionObjectInstance.getModification();
+
+      ObjectInstanceHandle objectInstanceHandle = federationExecutionObjectInstance.getObjectInstanceHandle();
+      objectInstanceStates.put(objectInstanceHandle, modification);
+
+      Long savedModification =
+        savedObjectInstanceStates == null ? null : savedObjectInstanceStates.get(objectInstanceHandle);
+      if (savedModification == null || savedModification != modification)
+      {
+        modifiedObjectInstances.add(federationExecutionObjectInstance);
+      }
+    }
+
+    if (savedObjectInstanceStates != null)
+    {
+      objectManagerState.setDelta(true);
+
+      for (ObjectInstanceHandle objectInstanceHandle : savedObjectInstanceStates.keySet())
+      {
+        if (!objects.containsKey(objectInstanceHandle))
+        {
+          objectManagerState.addDeletedObjectInstanceHandles(ObjectInstanceHandles.convert(objectInstanceHandle));
+        }
+      }
+    }
+
     objectManagerState.setReservedObjectInstanceNameCount(reservedObjectInstanceNames.size());
-    objectManagerState.setObjectInstanceStateCount(objects.size());
+    objectManagerState.setObjectInstanceStateCount(modifiedObjectInstances.size());
 
     out.writeMessageNoTag(objectManagerState.build());
 
@@ -953,12 +1066,18 @@ public class FederationExecutionObjectManager
       out.writeMessageNoTag(reservedObjectInstanceName.build());
     }
 
-    for (FederationExecutionObjectInstance federationExecutionObjectInstance : objects.values())
+    for (FederationExecutionObjectInstance federationExecutionObjectInstance : modifiedObjectInstances)
     {
       out.writeMessageNoTag(federationExecutionObjectInstance.saveState().build());
     }
   }
 
+  /**
+   * Restores the state of the object manager. A delta is applied to the object instances already restored.
+   *
+   * @param in the stream to restore from
+   * @throws IOException if an I/O error occurs
+   */
   public void restoreState(CodedInputStream in)
     throws IOException
   {
@@ -976,7 +1095,19 @@ public class FederationExecutionObjectManager
                                       FederateHandles.convert(reservedObjectInstanceName.getFederateHandle()));
     }
 
-    objects.clear();
+    if (objectManagerState.getDelta())
+    {
+      for (OHLAProtos.ObjectInstanceHandle objectInstanceHandle :
+        objectManagerState.getDeletedObjectInstanceHandlesList())
+      {
+        objects.remove(ObjectInstanceHandles.convert(objectInstanceHandle));
+      }
+    }
+    else
+    {
+      objects.clear();
+    }
+
     for (int objectInstanceStateCount = objectManagerState.getObjectInstanceStateCount(); objectInstanceStateCount > 0;
          --objectInstanceStateCount)
     {
@@ -989,6 +1120,14 @@ public class FederationExecutionObjectManager
     }
   }
 
+  /**
+   * Stamps the specified object instance as modified, a delta save saves it even if its state ends up unchanged.
+   */
+  private void modified(FederationExecutionObjectInstance objectInstance)
+  {
+    objectInstance.setModification(modifications.incrementAndGet());
+  }
+
   private class ScheduledDelete
     extends Retractable
   {
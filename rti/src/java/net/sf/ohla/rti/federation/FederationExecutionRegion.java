@@ -42,6 +42,11 @@ public class FederationExecutionRegion
 
   private final Map<DimensionHandle, RangeBounds> rangeBounds = new HashMap<>();
 
+  /**
+   * Stamped by the {@link FederationExecutionRegionManager} each time this region is modified.
+   */
+  private long modification;
+
   public FederationExecutionRegion(RegionHandle regionHandle, DimensionHandleSet dimensionHandles, FDD fdd)
   {
     this.regionHandle = regionHandle;
@@ -98,6 +103,16 @@ public class FederationExecutionRegion
     return rangeBounds;
   }
 
+  public long getModification()
+  {
+    return modification;
+  }
+
+  public void setModification(long modification)
+  {
+    this.modification = modification;
+  }
+
   public void commitRegionModifications(Map<DimensionHandle, RangeBounds> rangeBounds)
   {
     this.rangeBounds.putAll(rangeBounds);
@@ -150,7 +165,7 @@ public class FederationExecutionRegion
     return regionState;
   }
 
-  protected boolean intersects(RangeBounds lhs, RangeBounds rhs)
+  protected static boolean intersects(RangeBounds lhs, RangeBounds rhs)
   {
     return (lhs.lower < rhs.upper && rhs.lower < lhs.upper) || lhs.lower == rhs.lower;
   }
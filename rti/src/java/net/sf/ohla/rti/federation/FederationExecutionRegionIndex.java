@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.federation;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import hla.rti1516e.DimensionHandle;
+import hla.rti1516e.RangeBounds;
+import hla.rti1516e.RegionHandle;
+
+/**
+ * Indexes the range bounds of every region so the regions that intersect a region can be found without comparing it
+ * with every other region. The range of each dimension is divided into a fixed number of buckets and a region is
+ * added to the buckets its range bounds cover, regions that cover too many buckets are kept to one side and compared
+ * with every query.
+ * <p/>
+ * The index is not thread safe, it is modified under the write lock of the {@link FederationExecutionRegionManager}
+ * and searched under its read lock.
+ */
+public class FederationExecutionRegionIndex
+{
+  /**
+   * The number of buckets the range of each dimension is divided into.
+   */
+  private static final int BUCKETS = 1024;
+
+  /**
+   * The most buckets a region is added to before it is kept with the wide regions.
+   */
+  private static final int MAX_REGION_BUCKETS = 16;
+
+  private final FederationExecution federationExecution;
+
+  private final Map<DimensionHandle, DimensionIndex> dimensionIndexes = new HashMap<>();
+
+  public FederationExecutionRegionIndex(FederationExecution federationExecution)
+  {
+    this.federationExecution = federationExecution;
+  }
+
+  public void add(FederationExecutionRegion region)
+  {
+    for (DimensionHandle dimensionHandle : region.getDimensionHandles())
+    {
+      DimensionIndex dimensionIndex = dimensionIndexes.get(dimensionHandle);
+      if (dimensionIndex == null)
+      {
+        dimensionIndex = new DimensionIndex(
+          dimensionHandle, federationExecution.getFDD().getDimensionSafely(dimensionHandle).getUpperBound());
+        dimensionIndexes.put(dimensionHandle, dimensionIndex);
+      }
+
+      dimensionIndex.add(region);
+    }
+  }
+
+  /**
+   * Removes the specified region from the index. A region must be removed before its range bounds are modified and
+   * added back after.
+   *
+   * @param region the region to remove
+   */
+  public void remove(FederationExecutionRegion region)
+  {
+    for (DimensionHandle dimensionHandle : region.getDimensionHandles())
+    {
+      DimensionIndex dimensionIndex = dimensionIndexes.get(dimensionHandle);
+      if (dimensionIndex != null)
+      {
+        dimensionIndex.remove(region);
+      }
+    }
+  }
+
+  /**
+   * Returns the handles of the regions that intersect the specified region in any of the specified dimensions, the
+   * same regions {@link FederationExecutionRegion#intersects(FederationExecutionRegion, Set)} is {@code true} for.
+   *
+   * @param region the region
+   * @param dimensionHandles the dimensions to compare the regions in
+   * @return the handles of the regions that intersect the specified region
+   */
+  public Set<RegionHandle> getIntersectingRegionHandles(
+    FederationExecutionRegion region, Set<DimensionHandle> dimensionHandles)
+  {
+    Set<RegionHandle> intersectingRegionHandles = new HashSet<>();
+    for (DimensionHandle dimensionHandle : dimensionHandles)
+    {
+      RangeBounds rangeBounds = region.getRangeBounds(dimensionHandle);
+      DimensionIndex dimensionIndex = dimensionIndexes.get(dimensionHandle);
+      if (rangeBounds != null && dimensionIndex != null)
+      {
+        dimensionIndex.addIntersectingRegionHandles(rangeBounds, intersectingRegionHandles);
+      }
+    }
+    return intersectingRegionHandles;
+  }
+
+  private static class DimensionIndex
+  {
+    private final DimensionHandle dimensionHandle;
+    private final long bucketWidth;
+
+    @SuppressWarnings("unchecked")
+    private final Set<FederationExecutionRegion>[] buckets = new Set[BUCKETS];
+
+    private final Set<FederationExecutionRegion> wideRegions = new HashSet<>();
+
+    /**
+     * The range bounds each region was indexed with, a region's range bounds are modified in place.
+     */
+    private final Map<FederationExecutionRegion, RangeBounds> indexedRangeBounds = new HashMap<>();
+
+    private DimensionIndex(DimensionHandle dimensionHandle, long upperBound)
+    {
+      this.dimensionHandle = dimensionHandle;
+
+      bucketWidth = Math.max(1L, (upperBound + BUCKETS - 1) / BUCKETS);
+    }
+
+    private void add(FederationExecutionRegion region)
+    {
+      RangeBounds rangeBounds = region.getRangeBounds(dimensionHandle);
+      indexedRangeBounds.put(region, rangeBounds);
+
+      int first = getFirstBucket(rangeBounds);
+      int last = getLastBucket(rangeBounds);
+      if (last - first >= MAX_REGION_BUCKETS)
+      {
+        wideRegions.add(region);
+      }
+      else
+      {
+        for (int i = first; i <= last; i++)
+        {
+          if (buckets[i] == null)
+          {
+            buckets[i] = new HashSet<>();
+          }
+          buckets[i].add(region);
+        }
+      }
+    }
+
+    private void remove(FederationExecutionRegion region)
+    {
+      RangeBounds rangeBounds = indexedRangeBounds.remove(region);
+      if (rangeBounds != null && !wideRegions.remove(region))
+      {
+        for (int i = getFirstBucket(rangeBounds), last = getLastBucket(rangeBounds); i <= last; i++)
+        {
+          buckets[i].remove(region);
+        }
+      }
+    }
+
+    private void addIntersectingRegionHandles(RangeBounds rangeBounds, Set<RegionHandle> intersectingRegionHandles)
+    {
+      int first = getFirstBucket(rangeBounds);
+      int last = getLastBucket(rangeBounds);
+      if (last - first >= MAX_REGION_BUCKETS)
+      {
+        // a wide region is compared with every region rather than visiting every bucket it covers
+        //
+        addIntersectingRegionHandles(rangeBounds, indexedRangeBounds.keySet(), intersectingRegionHandles);
+      }
+      else
+      {
+        for (int i = first; i <= last; i++)
+        {
+          if (buckets[i] != null)
+          {
+            addIntersectingRegionHandles(rangeBounds, buckets[i], intersectingRegionHandles);
+          }
+        }
+        addIntersectingRegionHandles(rangeBounds, wideRegions, intersectingRegionHandles);
+      }
+    }
+
+    private void addIntersectingRegionHandles(
+      RangeBounds rangeBounds, Collection<FederationExecutionRegion> regions,
+      Set<RegionHandle> intersectingRegionHandles)
+    {
+      for (FederationExecutionRegion region : regions)
+      {
+        if (FederationExecutionRegion.intersects(rangeBounds, indexedRangeBounds.get(region)))
+        {
+          intersectingRegionHandles.add(region.getRegionHandle());
+        }
+      }
+    }
+
+    private int getFirstBucket(RangeBounds rangeBounds)
+    {
+      return getBucket(rangeBounds.lower);
+    }
+
+    private int getLastBucket(RangeBounds rangeBounds)
+    {
+      // the upper bound is exclusive, but a region whose bounds are equal still covers its lower bound
+      //
+      return getBucket(Math.max(rangeBounds.lower, rangeBounds.upper - 1));
+    }
+
+    private int getBucket(long value)
+    {
+      return (int) Math.max(0L, Math.min(BUCKETS - 1, value / bucketWidth));
+    }
+  }
+}
@@ -18,10 +18,15 @@ package net.sf.ohla.rti.federation;
 
 import java.io.IOException;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -31,6 +36,8 @@ import net.sf.ohla.rti.messages.CommitRegionModifications;
 import net.sf.ohla.rti.messages.CreateRegion;
 import net.sf.ohla.rti.messages.DeleteRegion;
 import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionState.FederationExecutionRegionManagerState;
+import net.sf.ohla.rti.proto.OHLAProtos;
+import net.sf.ohla.rti.util.RegionHandles;
 
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
@@ -40,14 +47,37 @@ import hla.rti1516e.RegionHandle;
 
 public class FederationExecutionRegionManager
 {
+  /**
+   * The most pairs of regions compared one by one, more than this and the intersecting regions are found with the
+   * region index.
+   */
+  private static final int MAX_COMPARED_REGIONS = 16;
+
   private final FederationExecution federationExecution;
 
   private final ReentrantReadWriteLock regionsLock = new ReentrantReadWriteLock(true);
   private final Map<RegionHandle, FederationExecutionRegion> regions = new HashMap<>();
 
+  private final FederationExecutionRegionIndex regionIndex;
+
+  /**
+   * The regions found to intersect each region by the dimensions they were compared in. The same update or
+   * interaction is compared with the subscribed regions of every federate, this is cleared whenever a region changes.
+   */
+  private final ConcurrentMap<Set<DimensionHandle>, ConcurrentMap<RegionHandle, Set<RegionHandle>>>
+    intersectingRegionHandles = new ConcurrentHashMap<>();
+
+  /**
+   * Stamps each region as it is modified, guarded by the write lock, see {@link #saveState(CodedOutputStream, Map,
+   * Map)}.
+   */
+  private long modifications;
+
   public FederationExecutionRegionManager(FederationExecution federationExecution)
   {
     this.federationExecution = federationExecution;
+
+    regionIndex = new FederationExecutionRegionIndex(federationExecution);
   }
 
   public ReentrantReadWriteLock getRegionsLock()
@@ -65,8 +95,15 @@ public class FederationExecutionRegionManager
     regionsLock.writeLock().lock();
     try
     {
-      regions.put(createRegion.getRegionHandle(), new FederationExecutionRegion(
-        createRegion.getRegionHandle(), createRegion.getDimensionHandles(), federationExecution.getFDD()));
+      FederationExecutionRegion region = new FederationExecutionRegion(
+        createRegion.getRegionHandle(), createRegion.getDimensionHandles(), federationExecution.getFDD());
+      regions.put(region.getRegionHandle(), region);
+
+      region.setModification(++modifications);
+
+      regionIndex.add(region);
+
+      intersectingRegionHandles.clear();
     }
     finally
     {
@@ -85,8 +122,17 @@ public class FederationExecutionRegionManager
       for (Map.Entry<RegionHandle, Map<DimensionHandle, RangeBounds>> entry :
         commitRegionModifications.getRegionModifications().entrySet())
       {
-        regions.get(entry.getKey()).commitRegionModifications(entry.getValue());
+        FederationExecutionRegion region = regions.get(entry.getKey());
+
+        regionIndex.remove(region);
+
+        region.commitRegionModifications(entry.getValue());
+        region.setModification(++modifications);
+
+        regionIndex.add(region);
       }
+
+      intersectingRegionHandles.clear();
     }
     finally
     {
@@ -99,7 +145,13 @@ public class FederationExecutionRegionManager
     regionsLock.writeLock().lock();
     try
     {
-      regions.remove(deleteRegion.getRegionHandle()).delete();
+      FederationExecutionRegion region = regions.remove(deleteRegion.getRegionHandle());
+
+      regionIndex.remove(region);
+
+      region.delete();
+
+      intersectingRegionHandles.clear();
     }
     finally
     {
@@ -112,23 +164,7 @@ public class FederationExecutionRegionManager
   {
     Map<RegionHandle, Map<DimensionHandle, RangeBounds>> regions;
 
-    boolean intersects = false;
-    for (Iterator<RegionHandle> i = subscribedRegionHandles.iterator(); !intersects && i.hasNext();)
-    {
-      FederationExecutionRegion subscribedRegion = this.regions.get(i.next());
-      if (subscribedRegion != null)
-      {
-        for (Iterator<RegionHandle> j = regionHandles.iterator(); !intersects && j.hasNext();)
-        {
-          FederationExecutionRegion region = this.regions.get(j.next());
-          if (region != null)
-          {
-            intersects = subscribedRegion.intersects(region, interactionClass.getDimensionHandles());
-          }
-        }
-      }
-    }
-    if (intersects)
+    if (intersectsOnly(subscribedRegionHandles, regionHandles, interactionClass.getDimensionHandles()))
     {
       regions = new HashMap<>();
       for (RegionHandle regionHandle : regionHandles)
@@ -151,23 +187,7 @@ public class FederationExecutionRegionManager
     Set<RegionHandle> subscribedRegionHandles, Set<RegionHandle> regionHandles,
     Attribute attribute, Map<RegionHandle, Map<DimensionHandle, RangeBounds>> regions)
   {
-    boolean intersects = false;
-
-    for (Iterator<RegionHandle> i = subscribedRegionHandles.iterator(); !intersects && i.hasNext();)
-    {
-      FederationExecutionRegion subscribedRegion = this.regions.get(i.next());
-      if (subscribedRegion != null)
-      {
-        for (Iterator<RegionHandle> j = regionHandles.iterator(); !intersects && j.hasNext();)
-        {
-          FederationExecutionRegion region = this.regions.get(j.next());
-          if (region != null)
-          {
-            intersects = subscribedRegion.intersects(region, attribute.getDimensionHandles());
-          }
-        }
-      }
-    }
+    boolean intersects = intersectsOnly(subscribedRegionHandles, regionHandles, attribute.getDimensionHandles());
     if (intersects)
     {
       for (RegionHandle regionHandle : regionHandles)
@@ -203,53 +223,166 @@ public class FederationExecutionRegionManager
     Set<RegionHandle> subscribedRegionHandles, Set<RegionHandle> regionHandles, Set<DimensionHandle> dimensionHandles)
   {
     boolean intersects = false;
-    for (Iterator<RegionHandle> i = subscribedRegionHandles.iterator(); !intersects && i.hasNext();)
+    if (subscribedRegionHandles.size() * regionHandles.size() <= MAX_COMPARED_REGIONS)
     {
-      FederationExecutionRegion subscribedRegion = this.regions.get(i.next());
-      if (subscribedRegion != null)
+      for (Iterator<RegionHandle> i = subscribedRegionHandles.iterator(); !intersects && i.hasNext();)
       {
-        for (Iterator<RegionHandle> j = regionHandles.iterator(); !intersects && j.hasNext();)
+        FederationExecutionRegion subscribedRegion = this.regions.get(i.next());
+        if (subscribedRegion != null)
         {
-          FederationExecutionRegion region = this.regions.get(j.next());
-          if (region != null)
+          for (Iterator<RegionHandle> j = regionHandles.iterator(); !intersects && j.hasNext();)
           {
-            intersects = subscribedRegion.intersects(region, dimensionHandles);
+            FederationExecutionRegion region = this.regions.get(j.next());
+            if (region != null)
+            {
+              intersects = subscribedRegion.intersects(region, dimensionHandles);
+            }
           }
         }
       }
     }
+    else
+    {
+      for (Iterator<RegionHandle> i = regionHandles.iterator(); !intersects && i.hasNext();)
+      {
+        intersects = !Collections.disjoint(
+          subscribedRegionHandles, getIntersectingRegionHandles(i.next(), dimensionHandles));
+      }
+    }
     return intersects;
   }
 
-  public void saveState(CodedOutputStream out)
+  /**
+   * Returns the handles of the regions that intersect the specified region in any of the specified dimensions. Must
+   * be called while holding the read lock.
+   *
+   * @param regionHandle the region
+   * @param dimensionHandles the dimensions to compare the regions in
+   * @return the handles of the regions that intersect the specified region
+   */
+  public Set<RegionHandle> getIntersectingRegionHandles(RegionHandle regionHandle, Set<DimensionHandle> dimensionHandles)
+  {
+    ConcurrentMap<RegionHandle, Set<RegionHandle>> intersectingRegionHandlesByRegion =
+      intersectingRegionHandles.get(dimensionHandles);
+    if (intersectingRegionHandlesByRegion == null)
+    {
+      intersectingRegionHandlesByRegion = new ConcurrentHashMap<>();
+
+      ConcurrentMap<RegionHandle, Set<RegionHandle>> existing =
+        intersectingRegionHandles.putIfAbsent(dimensionHandles, intersectingRegionHandlesByRegion);
+      if (existing != null)
+      {
+        intersectingRegionHandlesByRegion = existing;
+      }
+    }
+
+    Set<RegionHandle> intersectingRegionHandles = intersectingRegionHandlesByRegion.get(regionHandle);
+    if (intersectingRegionHandles == null)
+    {
+      FederationExecutionRegion region = regions.get(regionHandle);
+      if (region == null)
+      {
+        intersectingRegionHandles = Collections.emptySet();
+      }
+      else
+      {
+        intersectingRegionHandles = regionIndex.getIntersectingRegionHandles(region, dimensionHandles);
+      }
+
+      intersectingRegionHandlesByRegion.put(regionHandle, intersectingRegionHandles);
+    }
+    return intersectingRegionHandles;
+  }
+
+  /**
+   * Saves the state of the region manager. If the modification stamps of the regions saved by the previous save are
+   * specified, only the regions modified since then, and the handles of those that were deleted, are saved.
+   *
+   * @param out the stream to save to
+   * @param savedRegionStates the modification stamps of the regions saved by the previous save, or {@code null} to
+   *                          save every region
+   * @param regionStates receives the modification stamp of every region
+   * @throws IOException if an I/O error occurs
+   */
+  public void saveState(
+    CodedOutputStream out, Map<RegionHandle, Long> savedRegionStates, Map<RegionHandle, Long> regionStates)
     throws IOException
   {
     FederationExecutionRegionManagerState.Builder regionManagerState =
       FederationExecutionRegionManagerState.newBuilder();
 
-    regionManagerState.setRegionStateCount(regions.size());
+    List<FederationExecutionRegion> modifiedRegions = new ArrayList<>();
+    for (FederationExecutionRegion region : regions.values())
+    {
+      regionStates.put(region.getRegionHandle(), region.getModification());
+
+      Long savedModification = savedRegionStates == null ? null : savedRegionStates.get(region.getRegionHandle());
+      if (savedModification == null || savedModification != region.getModification())
+      {
+        modifiedRegions.add(region);
+      }
+    }
+
+    if (savedRegionStates != null)
+    {
+      regionManagerState.setDelta(true);
+
+      for (RegionHandle regionHandle : savedRegionStates.keySet())
+      {
+        if (!regions.containsKey(regionHandle))
+        {
+          regionManagerState.addDeletedRegionHandles(RegionHandles.convert(regionHandle));
+        }
+      }
+    }
+
+    regionManagerState.setRegionStateCount(modifiedRegions.size());
 
     out.writeMessageNoTag(regionManagerState.build());
 
-    for (FederationExecutionRegion region : regions.values())
+    for (FederationExecutionRegion region : modifiedRegions)
     {
       out.writeMessageNoTag(region.saveState().build());
     }
   }
 
+  /**
+   * Restores the state of the region manager. A delta is applied to the regions already restored.
+   *
+   * @param in the stream to restore from
+   * @throws IOException if an I/O error occurs
+   */
   public void restoreState(CodedInputStream in)
     throws IOException
   {
     FederationExecutionRegionManagerState regionManagerState =
       in.readMessage(FederationExecutionRegionManagerState.PARSER, null);
 
+    for (OHLAProtos.RegionHandle regionHandle : regionManagerState.getDeletedRegionHandlesList())
+    {
+      FederationExecutionRegion deletedRegion = regions.remove(RegionHandles.convert(regionHandle));
+      if (deletedRegion != null)
+      {
+        regionIndex.remove(deletedRegion);
+      }
+    }
+
     for (int regionStateCount = regionManagerState.getRegionStateCount(); regionStateCount > 0; --regionStateCount)
     {
       FederationExecutionRegionManagerState.FederationExecutionRegionState regionState =
         in.readMessage(FederationExecutionRegionManagerState.FederationExecutionRegionState.PARSER, null);
 
       FederationExecutionRegion region = new FederationExecutionRegion(regionState);
-      regions.put(region.getRegionHandle(), region);
+
+      FederationExecutionRegion replacedRegion = regions.put(region.getRegionHandle(), region);
+      if (replacedRegion != null)
+      {
+        regionIndex.remove(replacedRegion);
+      }
+
+      regionIndex.add(region);
     }
+
+    intersectingRegionHandles.clear();
   }
 }
@@ -18,7 +18,6 @@ package net.sf.ohla.rti.federation;
 
 import java.io.IOException;
 
-import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -27,6 +26,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,7 +38,9 @@ import net.sf.ohla.rti.messages.callbacks.FederationNotRestored;
 import net.sf.ohla.rti.messages.callbacks.FederationRestoreBegun;
 import net.sf.ohla.rti.messages.callbacks.FederationRestored;
 import net.sf.ohla.rti.messages.callbacks.InitiateFederateRestore;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederateSaveHeader;
 import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionSaveHeader;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionSaveIndex;
 import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.SavedFederationExecutionMessage;
 
 import com.google.common.collect.HashMultimap;
@@ -55,8 +57,15 @@ public class FederationExecutionRestore
 
   private final String label;
 
+  /**
+   * The save files the object instances and regions are restored from, base first, see
+   * {@link FederationExecutionSaveDigest}.
+   */
+  private final List<Path> restoreFiles;
+
   private final Path restoreFile;
   private final FileChannel restoreFileChannel;
+  private final FederationExecutionSaveIndex federationExecutionSaveIndex;
 
   /**
    * {@code Map} of the post-restore {@link FederateHandle} to the {@link FederateRestoreMapping}.
@@ -72,14 +81,16 @@ public class FederationExecutionRestore
     this.federationExecution = federationExecution;
     this.label = label;
 
-    restoreFile = federationExecution.getSaveDirectory().resolve(label + FederationExecutionSave.SAVE_FILE_EXTENSION);
+    restoreFiles = FederationExecutionSaveFile.getChain(federationExecution.getSaveDirectory(), label);
+    restoreFile = restoreFiles.get(restoreFiles.size() - 1);
 
     // TODO: check for existence of file and other stuff
 
     restoreFileChannel = FileChannel.open(restoreFile, StandardOpenOption.READ);
 
     FederationExecutionSaveHeader federationExecutionSaveHeader =
-      FederationExecutionSaveHeader.parseDelimitedFrom(Channels.newInputStream(restoreFileChannel));
+      FederationExecutionSaveFile.readHeader(restoreFileChannel);
+    federationExecutionSaveIndex = FederationExecutionSaveFile.readIndex(restoreFileChannel);
 
     // quick check
     //
@@ -91,9 +102,9 @@ public class FederationExecutionRestore
     // organize the federate proxy restores by type
     //
     Multimap<String, FederateProxyRestore> federateProxyRestoresByType = HashMultimap.create();
-    for (int federateCount = federationExecutionSaveHeader.getFederateCount(); federateCount > 0; --federateCount)
+    for (FederateSaveHeader federateSaveHeader : federationExecutionSaveIndex.getFederateSaveHeadersList())
     {
-      FederateProxyRestore federateProxyRestore = new FederateProxyRestore(restoreFileChannel);
+      FederateProxyRestore federateProxyRestore = new FederateProxyRestore(restoreFileChannel, federateSaveHeader);
       federateProxyRestoresByType.put(federateProxyRestore.getFederateType(), federateProxyRestore);
     }
 
@@ -181,11 +192,9 @@ public class FederationExecutionRestore
 
   public void fail(RestoreFailureReason restoreFailureReason)
   {
-    FederationNotRestored federationNotRestored = new FederationNotRestored(restoreFailureReason);
-
     for (FederateRestoreMapping federateRestoreMapping : federateRestoreMappings.values())
     {
-      federateRestoreMapping.getFederateProxy().federationNotRestored(federationNotRestored);
+      federateRestoreMapping.getFederateProxy().federationNotRestored(new FederationNotRestored(restoreFailureReason));
     }
   }
 
@@ -221,12 +230,28 @@ public class FederationExecutionRestore
 
   public void federationRestored()
   {
-    CodedInputStream restoreFileCodedInputStream =
-      CodedInputStream.newInstance(Channels.newInputStream(restoreFileChannel));
-
     try
     {
-      federationExecution.restoreState(restoreFileCodedInputStream);
+      federationExecution.restoreState(CodedInputStream.newInstance(FederationExecutionSaveFile.newInputStream(
+        restoreFileChannel, federationExecutionSaveIndex.getFederationExecutionStateExtentsList())));
+
+      // replay the object instances and regions from the base save through every delta save
+      //
+      for (Path restoreFile : restoreFiles)
+      {
+        try (FileChannel fileChannel = FileChannel.open(restoreFile, StandardOpenOption.READ))
+        {
+          FederationExecutionSaveIndex saveIndex = FederationExecutionSaveFile.readIndex(fileChannel);
+
+          federationExecution.getObjectManager().restoreState(CodedInputStream.newInstance(
+            FederationExecutionSaveFile.newInputStream(fileChannel, saveIndex.getObjectManagerStateExtentsList())));
+          federationExecution.getRegionManager().restoreState(CodedInputStream.newInstance(
+            FederationExecutionSaveFile.newInputStream(fileChannel, saveIndex.getRegionManagerStateExtentsList())));
+        }
+      }
+
+      federationExecution.restoreTimeState(CodedInputStream.newInstance(FederationExecutionSaveFile.newInputStream(
+        restoreFileChannel, federationExecutionSaveIndex.getTimeManagerStateExtentsList())));
     }
     catch (IOException e)
     {
@@ -235,21 +260,30 @@ public class FederationExecutionRestore
       // TODO: fail the restore
     }
 
-    FederationRestored federationRestored = new FederationRestored();
+    // the restored state is not what the last save saved, the next save cannot be a delta of it
+    //
+    federationExecution.setSaveDigest(null);
+
     for (FederateRestoreMapping federateRestoreMapping : federateRestoreMappings.values())
     {
-      federateRestoreMapping.federationRestored(federationRestored);
+      federateRestoreMapping.federationRestored(new FederationRestored());
 
       federationExecution.getFederates().put(
         federateRestoreMapping.getPostRestoreFederateHandle(), federateRestoreMapping.getFederateProxy());
       federationExecution.getFederatesByName().put(
         federateRestoreMapping.getPostRestoreFederateName(), federateRestoreMapping.getFederateProxy());
+
+      federationExecution.getRoutingTable().add(federateRestoreMapping.getFederateProxy());
     }
 
     // send the messages sent by federates after the save started, but before they were instructed to save
     //
     try (FileChannel fileChannel = restoreFileChannel)
     {
+      CodedInputStream restoreFileCodedInputStream = CodedInputStream.newInstance(
+        FederationExecutionSaveFile.newInputStream(
+          fileChannel, federationExecutionSaveIndex.getFederationExecutionMessageExtentsList()));
+
       while (!restoreFileCodedInputStream.isAtEnd())
       {
         SavedFederationExecutionMessage savedFederationExecutionMessage =
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.federation;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.sf.ohla.rti.fdd.InteractionClass;
+import net.sf.ohla.rti.fdd.ObjectClass;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+import net.sf.ohla.rti.util.AttributeHandles;
+
+import hla.rti1516e.AttributeHandle;
+import hla.rti1516e.InteractionClassHandle;
+import hla.rti1516e.ObjectClassHandle;
+
+/**
+ * Indexes the federates of a federation execution by what they are subscribed to so that updates and interactions
+ * are only offered to the federates that could receive them. The index is a superset of the federates that will
+ * actually receive a message, each {@link FederateProxy} still applies its own subscriptions (regions, passive
+ * subscriptions, the most specific subscribed class, etc.) before delivering anything.
+ * <p/>
+ * A federate's entries are refreshed from its {@link FederateProxySubscriptionManager} whenever it changes its
+ * subscriptions to a class, so the index never has to replicate the subscription rules.
+ */
+public class FederationExecutionRoutingTable
+{
+  private final ConcurrentMap<ObjectClassHandle, ConcurrentMap<AttributeHandle, Set<FederateProxy>>>
+    attributeSubscribers = new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<InteractionClassHandle, Set<FederateProxy>> interactionClassSubscribers =
+    new ConcurrentHashMap<>();
+
+  /**
+   * Time constrained federates have to see every time stamp ordered message, they might subscribe before the message
+   * is released.
+   */
+  private final Set<FederateProxy> timeConstrainedFederates = newFederateProxySet();
+
+  /**
+   * Refreshes the entries of the specified federate for the specified object class. Must be called while the
+   * federate's subscriptions cannot change.
+   */
+  public void objectClassSubscriptionChanged(FederateProxy federateProxy, ObjectClassHandle objectClassHandle)
+  {
+    Set<AttributeHandle> subscribedAttributeHandles =
+      federateProxy.getSubscriptionManager().getSubscribedAttributeHandles(objectClassHandle);
+
+    ConcurrentMap<AttributeHandle, Set<FederateProxy>> subscribers = attributeSubscribers.get(objectClassHandle);
+    if (subscribers == null && !subscribedAttributeHandles.isEmpty())
+    {
+      subscribers = new ConcurrentHashMap<>();
+
+      ConcurrentMap<AttributeHandle, Set<FederateProxy>> existingSubscribers =
+        attributeSubscribers.putIfAbsent(objectClassHandle, subscribers);
+      if (existingSubscribers != null)
+      {
+        subscribers = existingSubscribers;
+      }
+    }
+
+    if (subscribers != null)
+    {
+      for (Map.Entry<AttributeHandle, Set<FederateProxy>> entry : subscribers.entrySet())
+      {
+        if (!subscribedAttributeHandles.contains(entry.getKey()))
+        {
+          entry.getValue().remove(federateProxy);
+        }
+      }
+
+      for (AttributeHandle attributeHandle : subscribedAttributeHandles)
+      {
+        getOrCreate(subscribers, attributeHandle).add(federateProxy);
+      }
+    }
+  }
+
+  /**
+   * Refreshes the entry of the specified federate for the specified interaction class. Must be called while the
+   * federate's subscriptions cannot change.
+   */
+  public void interactionClassSubscriptionChanged(
+    FederateProxy federateProxy, InteractionClassHandle interactionClassHandle)
+  {
+    if (federateProxy.getSubscriptionManager().isInteractionClassSubscribed(interactionClassHandle))
+    {
+      getOrCreate(interactionClassSubscribers, interactionClassHandle).add(federateProxy);
+    }
+    else
+    {
+      Set<FederateProxy> subscribers = interactionClassSubscribers.get(interactionClassHandle);
+      if (subscribers != null)
+      {
+        subscribers.remove(federateProxy);
+      }
+    }
+  }
+
+  public void timeConstrainedChanged(FederateProxy federateProxy)
+  {
+    if (federateProxy.isTimeConstrainedEnabled())
+    {
+      timeConstrainedFederates.add(federateProxy);
+    }
+    else
+    {
+      timeConstrainedFederates.remove(federateProxy);
+    }
+  }
+
+  /**
+   * Adds all the entries of the specified federate, used when the federate's state has been restored.
+   */
+  public void add(FederateProxy federateProxy)
+  {
+    for (ObjectClassHandle objectClassHandle :
+      federateProxy.getSubscriptionManager().getSubscribedObjectClassHandles())
+    {
+      objectClassSubscriptionChanged(federateProxy, objectClassHandle);
+    }
+
+    for (InteractionClassHandle interactionClassHandle :
+      federateProxy.getSubscriptionManager().getSubscribedInteractionClassHandles())
+    {
+      interactionClassSubscriptionChanged(federateProxy, interactionClassHandle);
+    }
+
+    timeConstrainedChanged(federateProxy);
+  }
+
+  /**
+   * Removes all the entries of the specified federate, used when the federate resigns.
+   */
+  public void remove(FederateProxy federateProxy)
+  {
+    for (Map<AttributeHandle, Set<FederateProxy>> subscribers : attributeSubscribers.values())
+    {
+      for (Set<FederateProxy> federateProxies : subscribers.values())
+      {
+        federateProxies.remove(federateProxy);
+      }
+    }
+
+    for (Set<FederateProxy> federateProxies : interactionClassSubscribers.values())
+    {
+      federateProxies.remove(federateProxy);
+    }
+
+    timeConstrainedFederates.remove(federateProxy);
+  }
+
+  public void clear()
+  {
+    attributeSubscribers.clear();
+    interactionClassSubscribers.clear();
+    timeConstrainedFederates.clear();
+  }
+
+  /**
+   * Returns the federates that could reflect any of the specified attribute values of an instance of the specified
+   * object class.
+   *
+   * @param objectClass the object class of the updated object instance
+   * @param attributeValues the updated attribute values
+   * @param timeStampOrder whether the update was sent time stamp order
+   * @return the federates that could reflect the update, must not be modified
+   */
+  public Collection<FederateProxy> getReflectingFederates(
+    ObjectClass objectClass, List<MessageProtos.AttributeValue> attributeValues, boolean timeStampOrder)
+  {
+    Collection<FederateProxy> federateProxies = timeStampOrder ? timeConstrainedFederates : null;
+    boolean copied = false;
+
+    do
+    {
+      Map<AttributeHandle, Set<FederateProxy>> subscribers =
+        attributeSubscribers.get(objectClass.getObjectClassHandle());
+      if (subscribers != null)
+      {
+        for (MessageProtos.AttributeValue attributeValue : attributeValues)
+        {
+          Set<FederateProxy> subscribedFederateProxies =
+            subscribers.get(AttributeHandles.convert(attributeValue.getAttributeHandle()));
+          if (subscribedFederateProxies != null && !subscribedFederateProxies.isEmpty())
+          {
+            if (federateProxies == null || federateProxies.isEmpty())
+            {
+              federateProxies = subscribedFederateProxies;
+            }
+            else if (federateProxies != subscribedFederateProxies)
+            {
+              if (!copied)
+              {
+                federateProxies = new HashSet<>(federateProxies);
+                copied = true;
+              }
+              federateProxies.addAll(subscribedFederateProxies);
+            }
+          }
+        }
+      }
+
+      objectClass = objectClass.hasSuperObjectClass() ? objectClass.getSuperObjectClass() : null;
+    } while (objectClass != null);
+
+    return federateProxies == null ? Collections.<FederateProxy>emptySet() : federateProxies;
+  }
+
+  /**
+   * Returns the federates that could receive an interaction of the specified interaction class.
+   *
+   * @param interactionClass the interaction class of the interaction
+   * @param timeStampOrder whether the interaction was sent time stamp order
+   * @return the federates that could receive the interaction, must not be modified
+   */
+  public Collection<FederateProxy> getReceivingFederates(InteractionClass interactionClass, boolean timeStampOrder)
+  {
+    Collection<FederateProxy> federateProxies = timeStampOrder ? timeConstrainedFederates : null;
+    boolean copied = false;
+
+    do
+    {
+      Set<FederateProxy> subscribers = interactionClassSubscribers.get(interactionClass.getInteractionClassHandle());
+      if (subscribers != null && !subscribers.isEmpty())
+      {
+        if (federateProxies == null || federateProxies.isEmpty())
+        {
+          federateProxies = subscribers;
+        }
+        else
+        {
+          if (!copied)
+          {
+            federateProxies = new HashSet<>(federateProxies);
+            copied = true;
+          }
+          federateProxies.addAll(subscribers);
+        }
+      }
+
+      interactionClass = interactionClass.hasSuperInteractionClass() ?
+        interactionClass.getSuperInteractionClass() : null;
+    } while (interactionClass != null);
+
+    return federateProxies == null ? Collections.<FederateProxy>emptySet() : federateProxies;
+  }
+
+  private static <K> Set<FederateProxy> getOrCreate(ConcurrentMap<K, Set<FederateProxy>> subscribers, K key)
+  {
+    Set<FederateProxy> federateProxies = subscribers.get(key);
+    if (federateProxies == null)
+    {
+      federateProxies = newFederateProxySet();
+
+      Set<FederateProxy> existingFederateProxies = subscribers.putIfAbsent(key, federateProxies);
+      if (existingFederateProxies != null)
+      {
+        federateProxies = existingFederateProxies;
+      }
+    }
+    return federateProxies;
+  }
+
+  private static Set<FederateProxy> newFederateProxySet()
+  {
+    return Collections.newSetFromMap(new ConcurrentHashMap<FederateProxy, Boolean>());
+  }
+}
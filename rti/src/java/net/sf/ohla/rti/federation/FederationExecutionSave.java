@@ -16,11 +16,10 @@
 
 package net.sf.ohla.rti.federation;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 
-import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -28,17 +27,26 @@ import java.nio.file.StandardOpenOption;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import net.sf.ohla.rti.util.FederateHandles;
 import net.sf.ohla.rti.util.LogicalTimes;
-import net.sf.ohla.rti.util.MoreChannels;
+import net.sf.ohla.rti.i18n.I18nLogger;
+import net.sf.ohla.rti.i18n.LogMessages;
 import net.sf.ohla.rti.messages.FederationExecutionMessage;
 import net.sf.ohla.rti.messages.Message;
 import net.sf.ohla.rti.messages.Messages;
+import net.sf.ohla.rti.messages.callbacks.FederationNotSaved;
 import net.sf.ohla.rti.messages.callbacks.FederationSaved;
 import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionSaveHeader;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionSaveIndex;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.SaveFileExtent;
 import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.SavedFederationExecutionMessage;
 
 import com.google.protobuf.CodedInputStream;
@@ -48,24 +56,68 @@ import hla.rti1516e.LogicalTime;
 import hla.rti1516e.SaveFailureReason;
 import hla.rti1516e.SaveStatus;
 
+/**
+ * A federation save in progress. The federates stream their state into the {@link FederationExecutionSaveFile} as
+ * they save and the state of the federation execution is written alongside them as soon as every federate has begun
+ * saving, since it cannot change after that. Completing the save only has to write the index of the file.
+ * <p/>
+ * If {@link #OHLA_RTI_FEDERATION_SAVE_DELTA_PROPERTY} or {@link #OHLA_RTI_FEDERATION_SAVE_DELTA_PROPERTY_FORMAT} is set,
+ * only the object instances and regions that changed since the previous save are saved, see
+ * {@link FederationExecutionSaveDigest}.
+ */
 public class FederationExecutionSave
 {
-  public static final String FEDERATION_EXECUTION_MESSAGES = "Federation_Execution_Messages";
-
   public static final String SAVE_FILE_EXTENSION = ".save";
 
+  public static final String OHLA_RTI_FEDERATION_SAVE_DELTA_PROPERTY = "ohla.rti.federationSave.delta";
+
+  /**
+   * The number of delta saves after which a save is compacted into a full save.
+   */
+  public static final String OHLA_RTI_FEDERATION_SAVE_COMPACT_AFTER_PROPERTY = "ohla.rti.federationSave.compactAfter";
+
+  /**
+   * Saves deltas in the named federation execution only.
+   */
+  public static final String OHLA_RTI_FEDERATION_SAVE_DELTA_PROPERTY_FORMAT =
+    "ohla.rti.federationExecution.%s.federationSave.delta";
+
+  /**
+   * Overrides {@link #OHLA_RTI_FEDERATION_SAVE_COMPACT_AFTER_PROPERTY} in the named federation execution only.
+   */
+  public static final String OHLA_RTI_FEDERATION_SAVE_COMPACT_AFTER_PROPERTY_FORMAT =
+    "ohla.rti.federationExecution.%s.federationSave.compactAfter";
+
+  public static final int DEFAULT_COMPACT_AFTER = 8;
+
+  /**
+   * The size of the buffers used to write the federation execution state and messages into the save file.
+   */
+  private static final int BUFFER_SIZE = 64 * 1024;
+
   private final FederationExecution federationExecution;
 
   private final String label;
   private final LogicalTime saveTime;
 
-  private final FileChannel saveFileChannel;
-  private final CodedOutputStream saveFileCodedOutputStream;
+  private final Path saveFile;
+  private final FederationExecutionSaveFile federationExecutionSaveFile;
 
-  private final Path federationExecutionMessagesFile;
-  private final FileChannel federationExecutionMessagesFileChannel;
+  private final FederationExecutionSaveFile.Region federationExecutionMessages;
   private final CodedOutputStream federationExecutionMessagesCodedOutputStream;
 
+  private final FederationExecutionSaveIndex.Builder federationExecutionSaveIndex =
+    FederationExecutionSaveIndex.newBuilder();
+
+  /**
+   * The digest of the save this save is a delta of, or {@code null} if this is a full save.
+   */
+  private final FederationExecutionSaveDigest baseSaveDigest;
+
+  private final FederationExecutionSaveDigest saveDigest;
+
+  private FutureTask<FederationExecutionSaveIndex> federationExecutionStateWriter;
+
   private final Map<FederateHandle, FederateProxySave> federateProxySaves = new HashMap<>();
 
   private final Set<FederateHandle> instructedToSave = new HashSet<>();
@@ -76,6 +128,16 @@ public class FederationExecutionSave
 
   private SaveFailureReason saveFailureReason;
 
+  /**
+   * The first failure to write the save file, the save fails when it is completed.
+   */
+  private IOException saveFileFailure;
+
+  private final boolean delta;
+  private final int compactAfter;
+
+  private final I18nLogger log;
+
   public FederationExecutionSave(FederationExecution federationExecution, String label)
     throws IOException
   {
@@ -89,15 +151,34 @@ public class FederationExecutionSave
     this.label = label;
     this.saveTime = saveTime;
 
+    log = I18nLogger.getLogger(federationExecution.getMarker(), FederationExecutionSave.class);
+
+    String name = federationExecution.getName();
+    delta = Boolean.getBoolean(OHLA_RTI_FEDERATION_SAVE_DELTA_PROPERTY) ||
+            Boolean.getBoolean(String.format(OHLA_RTI_FEDERATION_SAVE_DELTA_PROPERTY_FORMAT, name));
+    compactAfter = Math.max(1, Integer.getInteger(
+      String.format(OHLA_RTI_FEDERATION_SAVE_COMPACT_AFTER_PROPERTY_FORMAT, name),
+      Integer.getInteger(OHLA_RTI_FEDERATION_SAVE_COMPACT_AFTER_PROPERTY, DEFAULT_COMPACT_AFTER)));
+
     // ensure the save directory has been created
     //
     Files.createDirectories(federationExecution.getSaveDirectory());
 
-    Path saveFile = federationExecution.getSaveDirectory().resolve(label + SAVE_FILE_EXTENSION);
+    saveFile = FederationExecutionSaveFile.getSaveFile(federationExecution.getSaveDirectory(), label);
+
+    FederationExecutionSaveDigest previousSaveDigest = federationExecution.getSaveDigest();
+    if (previousSaveDigest != null)
+    {
+      // the previous save might still be reading the save file about to be overwritten
+      //
+      previousSaveDigest.awaitCompaction();
+    }
 
-    saveFileChannel = FileChannel.open(
-      saveFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
-    saveFileCodedOutputStream = CodedOutputStream.newInstance(Channels.newOutputStream(saveFileChannel));
+    // a save cannot be a delta of a save it is about to overwrite
+    //
+    baseSaveDigest = delta && previousSaveDigest != null && !previousSaveDigest.getChain().contains(label) ?
+      previousSaveDigest : null;
+    saveDigest = new FederationExecutionSaveDigest(label, UUID.randomUUID().toString(), baseSaveDigest);
 
     FederationExecutionSaveHeader.Builder federationExecutionSaveHeader =
       FederationExecutionSaveHeader.newBuilder();
@@ -108,21 +189,27 @@ public class FederationExecutionSave
 
     if (saveTime != null)
     {
-      federationExecutionSaveHeader.setSaveTime(LogicalTimes.convert(saveTime));
+      federationExecutionSaveHeader.setSaveTime(
+        LogicalTimes.convert(federationExecution.getTimeManager().getLogicalTimeFactory(), saveTime));
     }
 
     federationExecutionSaveHeader.setFdd(federationExecution.getFDD().toProto());
 
     federationExecutionSaveHeader.setRealTime(System.currentTimeMillis());
 
-    saveFileCodedOutputStream.writeMessageNoTag(federationExecutionSaveHeader.build());
-    saveFileCodedOutputStream.flush();
+    federationExecutionSaveHeader.setSaveId(saveDigest.getSaveId());
+
+    if (baseSaveDigest != null)
+    {
+      federationExecutionSaveHeader.setBaseLabel(baseSaveDigest.getLabel());
+      federationExecutionSaveHeader.setBaseSaveId(baseSaveDigest.getSaveId());
+    }
+
+    federationExecutionSaveFile = new FederationExecutionSaveFile(saveFile, federationExecutionSaveHeader.build());
 
-    federationExecutionMessagesFile = Files.createTempFile(FEDERATION_EXECUTION_MESSAGES, "save");
-    federationExecutionMessagesFileChannel = FileChannel.open(
-      federationExecutionMessagesFile, StandardOpenOption.WRITE);
-    federationExecutionMessagesCodedOutputStream = CodedOutputStream.newInstance(
-      Channels.newOutputStream(federationExecutionMessagesFileChannel));
+    federationExecutionMessages = federationExecutionSaveFile.createRegion();
+    federationExecutionMessagesCodedOutputStream =
+      CodedOutputStream.newInstance(federationExecutionMessages, BUFFER_SIZE);
   }
 
   public String getLabel()
@@ -155,7 +242,7 @@ public class FederationExecutionSave
   {
     instructedToSave.add(federateProxy.getFederateHandle());
 
-    FederateProxySave federateProxySave = new FederateProxySave(federateProxy);
+    FederateProxySave federateProxySave = new FederateProxySave(federateProxy, federationExecutionSaveFile);
     federateProxySaves.put(federateProxy.getFederateHandle(), federateProxySave);
     return federateProxySave;
   }
@@ -187,19 +274,20 @@ public class FederationExecutionSave
 
     if (instructedToSave.isEmpty())
     {
-      // all federates have begun saving, no more messages will be coming in
+      // all federates have begun saving, no more messages will be coming in and the federation execution state will
+      // not change until the save is over, so it can be written while the federates are saving
 
       try
       {
         federationExecutionMessagesCodedOutputStream.flush();
-        federationExecutionMessagesFileChannel.close();
       }
       catch (IOException ioe)
       {
-        ioe.printStackTrace();
-
-        // TODO: fail the save
+        saveFileFailed(ioe);
       }
+
+      federationExecutionStateWriter = new FutureTask<>(new FederationExecutionStateWriter());
+      federationExecution.getExecutor().execute(federationExecutionStateWriter);
     }
   }
 
@@ -210,16 +298,7 @@ public class FederationExecutionSave
     saving.remove(federateHandle);
     waitingForFederationToSave.add(federateHandle);
 
-    try
-    {
-      federateProxySaves.get(federateHandle).writeTo(saveFileChannel, saveFileCodedOutputStream);
-    }
-    catch (IOException ioe)
-    {
-      ioe.printStackTrace();
-
-      // TODO: fail the save
-    }
+    federationExecutionSaveIndex.addFederateSaveHeaders(federateProxySaves.get(federateHandle).complete());
 
     return instructedToSave.isEmpty() && saving.isEmpty();
   }
@@ -236,38 +315,45 @@ public class FederationExecutionSave
     return instructedToSave.isEmpty() && saving.isEmpty();
   }
 
+  /**
+   * Completes the save and tells every federate whether the federation saved. The federation is not saved if the save
+   * file could not be written in full, the incomplete save file is deleted so it cannot be restored.
+   */
   public void federationSaved(Map<FederateHandle, FederateProxy> federates)
   {
-    try (FileChannel saveFileChannel = this.saveFileChannel)
+    boolean saved;
+    try
     {
-      // write the FederationExecution state
-      //
-      federationExecution.saveState(saveFileCodedOutputStream);
-      saveFileCodedOutputStream.flush();
+      complete();
 
-      // append any FederationExecution messages that were sent during the save
-      //
-      MoreChannels.transferFromFully(saveFileChannel, federationExecutionMessagesFile);
+      saved = true;
     }
     catch (IOException ioe)
     {
-      ioe.printStackTrace();
+      log.error(LogMessages.UNABLE_TO_COMPLETE_FEDERATION_SAVE, ioe, label);
 
-      // TODO: fail the save
+      saved = false;
     }
 
-    // notify all federates that the federation has saved successfully
-    //
-    FederationSaved federationSaved = new FederationSaved();
     for (FederateProxy f : federates.values())
     {
-      f.federationSaved(federationSaved);
+      if (saved)
+      {
+        f.federationSaved(new FederationSaved());
+      }
+      else
+      {
+        f.federationNotSaved(new FederationNotSaved(SaveFailureReason.RTI_UNABLE_TO_SAVE));
+      }
     }
 
-    // send the messages sent by federates after the save started, but before they were instructed to save
+    // send the messages sent by federates after the save started, but before they were instructed to save, whether or
+    // not the federation saved
     //
-    try (InputStream in = Channels.newInputStream(FileChannel.open(federationExecutionMessagesFile, StandardOpenOption.READ)))
+    try (FileChannel saveFileChannel = FileChannel.open(saveFile, StandardOpenOption.READ))
     {
+      InputStream in = FederationExecutionSaveFile.newInputStream(
+        saveFileChannel, federationExecutionMessages.getExtents());
       CodedInputStream federationExecutionMessagesCodedInputStream = CodedInputStream.newInstance(in);
 
       while (!federationExecutionMessagesCodedInputStream.isAtEnd())
@@ -287,28 +373,42 @@ public class FederationExecutionSave
           federationExecution, federationExecution.getFederate(sendingFederateHandle));
       }
     }
-    catch (FileNotFoundException fnfe)
+    catch (IOException ioe)
     {
-      fnfe.printStackTrace();
-
-      // TODO: ??
+      log.error(LogMessages.UNABLE_TO_EXECUTE_SAVED_FEDERATION_EXECUTION_MESSAGES, ioe, label);
     }
-    catch (IOException e)
+
+    if (!saved)
     {
-      e.printStackTrace();
+      FederationExecutionSaveDigest previousSaveDigest = federationExecution.getSaveDigest();
+      if (previousSaveDigest != null && previousSaveDigest.getChain().contains(label))
+      {
+        // the save it overwrote can no longer be the base of a delta save
+        //
+        federationExecution.setSaveDigest(null);
+      }
 
-      // TODO: ??
+      try
+      {
+        Files.deleteIfExists(saveFile);
+      }
+      catch (IOException ioe)
+      {
+        log.warn(LogMessages.UNABLE_TO_DELETE_FEDERATION_SAVE, ioe, label);
+      }
     }
+  }
 
-    try
-    {
-      Files.delete(federationExecutionMessagesFile);
-    }
-    catch (IOException e)
+  /**
+   * Fails the save, called when the save file could not be written to.
+   *
+   * @param ioe the failure to write the save file
+   */
+  public void saveFileFailed(IOException ioe)
+  {
+    if (saveFileFailure == null)
     {
-      e.printStackTrace();
-
-      // TODO: ??
+      saveFileFailure = ioe;
     }
   }
 
@@ -338,4 +438,109 @@ public class FederationExecutionSave
     federationExecutionMessagesCodedOutputStream.writeMessageNoTag(savedFederationExecutionMessage.build());
     federationExecutionMessagesCodedOutputStream.writeMessageNoTag(message.getMessageLite());
   }
+
+  /**
+   * Writes the federation execution state, if it has not been written yet, and the index of the save file. The save
+   * only becomes the federation execution's latest save once its index has been written.
+   */
+  private void complete()
+    throws IOException
+  {
+    try (FederationExecutionSaveFile federationExecutionSaveFile = this.federationExecutionSaveFile)
+    {
+      federationExecutionMessagesCodedOutputStream.flush();
+      federationExecutionMessages.close();
+
+      if (federationExecutionStateWriter == null)
+      {
+        // the federates that had not begun saving resigned
+
+        federationExecutionStateWriter = new FutureTask<>(new FederationExecutionStateWriter());
+      }
+
+      // writes the state here if the executor has not got to it yet, the executor could be waiting on this thread
+      //
+      federationExecutionStateWriter.run();
+
+      FederationExecutionSaveIndex federationExecutionState;
+      try
+      {
+        federationExecutionState = federationExecutionStateWriter.get();
+      }
+      catch (ExecutionException ee)
+      {
+        throw ee.getCause() instanceof IOException ? (IOException) ee.getCause() : new IOException(ee.getCause());
+      }
+      catch (InterruptedException ie)
+      {
+        Thread.currentThread().interrupt();
+
+        throw (IOException) new InterruptedIOException().initCause(ie);
+      }
+
+      if (saveFileFailure != null)
+      {
+        throw saveFileFailure;
+      }
+
+      federationExecutionSaveIndex.mergeFrom(federationExecutionState);
+      federationExecutionSaveIndex.addAllFederationExecutionMessageExtents(federationExecutionMessages.getExtents());
+
+      federationExecutionSaveFile.writeIndex(federationExecutionSaveIndex.build());
+    }
+
+    federationExecution.setSaveDigest(saveDigest);
+
+    if (saveDigest.getChain().size() > compactAfter)
+    {
+      FutureTask<Void> compaction = new FutureTask<>(
+        new FederationExecutionSaveCompaction(federationExecution.getSaveDirectory(), label));
+      saveDigest.setCompaction(compaction);
+      federationExecution.getExecutor().execute(compaction);
+    }
+  }
+
+  private class FederationExecutionStateWriter
+    implements Callable<FederationExecutionSaveIndex>
+  {
+    public FederationExecutionSaveIndex call()
+      throws IOException
+    {
+      FederationExecutionSaveIndex.Builder federationExecutionSaveIndex = FederationExecutionSaveIndex.newBuilder();
+
+      FederationExecutionSaveFile.Region federationExecutionState = federationExecutionSaveFile.createRegion();
+      CodedOutputStream out = CodedOutputStream.newInstance(federationExecutionState, BUFFER_SIZE);
+      federationExecution.saveState(out);
+      federationExecutionSaveIndex.addAllFederationExecutionStateExtents(close(federationExecutionState, out));
+
+      FederationExecutionSaveFile.Region objectManagerState = federationExecutionSaveFile.createRegion();
+      out = CodedOutputStream.newInstance(objectManagerState, BUFFER_SIZE);
+      federationExecution.getObjectManager().saveState(
+        out, baseSaveDigest == null ? null : baseSaveDigest.getObjectInstanceStates(),
+        saveDigest.getObjectInstanceStates());
+      federationExecutionSaveIndex.addAllObjectManagerStateExtents(close(objectManagerState, out));
+
+      FederationExecutionSaveFile.Region regionManagerState = federationExecutionSaveFile.createRegion();
+      out = CodedOutputStream.newInstance(regionManagerState, BUFFER_SIZE);
+      federationExecution.getRegionManager().saveState(
+        out, baseSaveDigest == null ? null : baseSaveDigest.getRegionStates(), saveDigest.getRegionStates());
+      federationExecutionSaveIndex.addAllRegionManagerStateExtents(close(regionManagerState, out));
+
+      FederationExecutionSaveFile.Region timeManagerState = federationExecutionSaveFile.createRegion();
+      out = CodedOutputStream.newInstance(timeManagerState, BUFFER_SIZE);
+      federationExecution.saveTimeState(out);
+      federationExecutionSaveIndex.addAllTimeManagerStateExtents(close(timeManagerState, out));
+
+      return federationExecutionSaveIndex.build();
+    }
+
+    private List<SaveFileExtent> close(FederationExecutionSaveFile.Region region, CodedOutputStream out)
+      throws IOException
+    {
+      out.flush();
+      region.close();
+
+      return region.getExtents();
+    }
+  }
 }
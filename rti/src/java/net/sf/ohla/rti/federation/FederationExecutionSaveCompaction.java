@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.federation;
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import net.sf.ohla.rti.i18n.I18nLogger;
+import net.sf.ohla.rti.i18n.LogMessages;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederateSaveHeader;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionSaveHeader;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionSaveIndex;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionState.FederationExecutionObjectManagerState;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionState.FederationExecutionObjectManagerState.FederationExecutionObjectInstanceState;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionState.FederationExecutionObjectManagerState.ReservedObjectInstanceName;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionState.FederationExecutionRegionManagerState;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionState.FederationExecutionRegionManagerState.FederationExecutionRegionState;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.SaveFileExtent;
+import net.sf.ohla.rti.proto.OHLAProtos;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+/**
+ * Compacts a delta save into a full save. The object instances and regions of every save in its chain are merged and
+ * everything else is copied from the save as is. The compacted save replaces the delta save once it is complete, so
+ * the delta save can be restored while it is being compacted.
+ */
+public class FederationExecutionSaveCompaction
+  implements Callable<Void>
+{
+  private static final String COMPACTING_EXTENSION = ".compacting";
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final I18nLogger log = I18nLogger.getLogger(FederationExecutionSaveCompaction.class);
+
+  private final Path saveDirectory;
+  private final String label;
+
+  private final List<ReservedObjectInstanceName> reservedObjectInstanceNames = new ArrayList<>();
+  private final Map<OHLAProtos.ObjectInstanceHandle, FederationExecutionObjectInstanceState> objectInstanceStates =
+    new LinkedHashMap<>();
+  private final Map<OHLAProtos.RegionHandle, FederationExecutionRegionState> regionStates = new LinkedHashMap<>();
+
+  public FederationExecutionSaveCompaction(Path saveDirectory, String label)
+  {
+    this.saveDirectory = saveDirectory;
+    this.label = label;
+  }
+
+  public Void call()
+    throws IOException
+  {
+    Path compactedSaveFile = Files.createTempFile(saveDirectory, label, COMPACTING_EXTENSION);
+    try
+    {
+      List<Path> chain = FederationExecutionSaveFile.getChain(saveDirectory, label);
+      for (Path saveFile : chain)
+      {
+        merge(saveFile);
+      }
+
+      Path saveFile = chain.get(chain.size() - 1);
+
+      write(saveFile, compactedSaveFile);
+
+      Files.move(compactedSaveFile, saveFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    catch (IOException ioe)
+    {
+      log.warn(LogMessages.UNABLE_TO_COMPACT_FEDERATION_SAVE, ioe, label);
+
+      Files.deleteIfExists(compactedSaveFile);
+
+      throw ioe;
+    }
+
+    return null;
+  }
+
+  private void merge(Path saveFile)
+    throws IOException
+  {
+    try (FileChannel fileChannel = FileChannel.open(saveFile, StandardOpenOption.READ))
+    {
+      FederationExecutionSaveIndex federationExecutionSaveIndex = FederationExecutionSaveFile.readIndex(fileChannel);
+
+      CodedInputStream in = CodedInputStream.newInstance(FederationExecutionSaveFile.newInputStream(
+        fileChannel, federationExecutionSaveIndex.getObjectManagerStateExtentsList()));
+
+      FederationExecutionObjectManagerState objectManagerState =
+        in.readMessage(FederationExecutionObjectManagerState.PARSER, null);
+
+      // every save has all the reserved object instance names
+      //
+      reservedObjectInstanceNames.clear();
+      for (int reservedObjectInstanceNameCount = objectManagerState.getReservedObjectInstanceNameCount();
+           reservedObjectInstanceNameCount > 0; --reservedObjectInstanceNameCount)
+      {
+        reservedObjectInstanceNames.add(in.readMessage(ReservedObjectInstanceName.PARSER, null));
+      }
+
+      if (!objectManagerState.getDelta())
+      {
+        objectInstanceStates.clear();
+      }
+      objectInstanceStates.keySet().removeAll(objectManagerState.getDeletedObjectInstanceHandlesList());
+
+      for (int objectInstanceStateCount = objectManagerState.getObjectInstanceStateCount();
+           objectInstanceStateCount > 0; --objectInstanceStateCount)
+      {
+        FederationExecutionObjectInstanceState objectInstanceState =
+          in.readMessage(FederationExecutionObjectInstanceState.PARSER, null);
+        objectInstanceStates.put(objectInstanceState.getObjectInstanceHandle(), objectInstanceState);
+      }
+
+      in = CodedInputStream.newInstance(FederationExecutionSaveFile.newInputStream(
+        fileChannel, federationExecutionSaveIndex.getRegionManagerStateExtentsList()));
+
+      FederationExecutionRegionManagerState regionManagerState =
+        in.readMessage(FederationExecutionRegionManagerState.PARSER, null);
+
+      regionStates.keySet().removeAll(regionManagerState.getDeletedRegionHandlesList());
+
+      for (int regionStateCount = regionManagerState.getRegionStateCount(); regionStateCount > 0; --regionStateCount)
+      {
+        FederationExecutionRegionState regionState =
+          in.readMessage(FederationExecutionRegionState.PARSER, null);
+        regionStates.put(regionState.getRegionHandle(), regionState);
+      }
+    }
+  }
+
+  private void write(Path saveFile, Path compactedSaveFile)
+    throws IOException
+  {
+    try (FileChannel fileChannel = FileChannel.open(saveFile, StandardOpenOption.READ))
+    {
+      FederationExecutionSaveHeader federationExecutionSaveHeader = FederationExecutionSaveFile.readHeader(fileChannel);
+      FederationExecutionSaveIndex federationExecutionSaveIndex = FederationExecutionSaveFile.readIndex(fileChannel);
+
+      try (FederationExecutionSaveFile federationExecutionSaveFile = new FederationExecutionSaveFile(
+        compactedSaveFile, federationExecutionSaveHeader.toBuilder().clearBaseLabel().clearBaseSaveId().build()))
+      {
+        FederationExecutionSaveIndex.Builder compactedFederationExecutionSaveIndex =
+          FederationExecutionSaveIndex.newBuilder();
+
+        for (FederateSaveHeader federateSaveHeader : federationExecutionSaveIndex.getFederateSaveHeadersList())
+        {
+          FederateSaveHeader.Builder compactedFederateSaveHeader = federateSaveHeader.toBuilder();
+
+          compactedFederateSaveHeader.clearFederateStateExtents();
+          compactedFederateSaveHeader.addAllFederateStateExtents(copy(
+            fileChannel, federateSaveHeader.getFederateStateExtentsList(), federationExecutionSaveFile));
+          compactedFederateSaveHeader.clearFederateProxyStateExtents();
+          compactedFederateSaveHeader.addAllFederateProxyStateExtents(copy(
+            fileChannel, federateSaveHeader.getFederateProxyStateExtentsList(), federationExecutionSaveFile));
+
+          compactedFederationExecutionSaveIndex.addFederateSaveHeaders(compactedFederateSaveHeader);
+        }
+
+        compactedFederationExecutionSaveIndex.addAllFederationExecutionStateExtents(copy(
+          fileChannel, federationExecutionSaveIndex.getFederationExecutionStateExtentsList(),
+          federationExecutionSaveFile));
+        compactedFederationExecutionSaveIndex.addAllFederationExecutionMessageExtents(copy(
+          fileChannel, federationExecutionSaveIndex.getFederationExecutionMessageExtentsList(),
+          federationExecutionSaveFile));
+        compactedFederationExecutionSaveIndex.addAllTimeManagerStateExtents(copy(
+          fileChannel, federationExecutionSaveIndex.getTimeManagerStateExtentsList(), federationExecutionSaveFile));
+
+        FederationExecutionSaveFile.Region objectManagerState = federationExecutionSaveFile.createRegion();
+        CodedOutputStream out = CodedOutputStream.newInstance(objectManagerState, BUFFER_SIZE);
+
+        out.writeMessageNoTag(FederationExecutionObjectManagerState.newBuilder().setReservedObjectInstanceNameCount(
+          reservedObjectInstanceNames.size()).setObjectInstanceStateCount(objectInstanceStates.size()).build());
+        for (ReservedObjectInstanceName reservedObjectInstanceName : reservedObjectInstanceNames)
+        {
+          out.writeMessageNoTag(reservedObjectInstanceName);
+        }
+        for (FederationExecutionObjectInstanceState objectInstanceState : objectInstanceStates.values())
+        {
+          out.writeMessageNoTag(objectInstanceState);
+        }
+
+        out.flush();
+        objectManagerState.close();
+
+        compactedFederationExecutionSaveIndex.addAllObjectManagerStateExtents(objectManagerState.getExtents());
+
+        FederationExecutionSaveFile.Region regionManagerState = federationExecutionSaveFile.createRegion();
+        out = CodedOutputStream.newInstance(regionManagerState, BUFFER_SIZE);
+
+        out.writeMessageNoTag(FederationExecutionRegionManagerState.newBuilder().setRegionStateCount(
+          regionStates.size()).build());
+        for (FederationExecutionRegionState regionState : regionStates.values())
+        {
+          out.writeMessageNoTag(regionState);
+        }
+
+        out.flush();
+        regionManagerState.close();
+
+        compactedFederationExecutionSaveIndex.addAllRegionManagerStateExtents(regionManagerState.getExtents());
+
+        federationExecutionSaveFile.writeIndex(compactedFederationExecutionSaveIndex.build());
+      }
+    }
+  }
+
+  private static List<SaveFileExtent> copy(
+    FileChannel fileChannel, List<SaveFileExtent> extents, FederationExecutionSaveFile federationExecutionSaveFile)
+    throws IOException
+  {
+    FederationExecutionSaveFile.Region region = federationExecutionSaveFile.createRegion();
+    for (ByteBuffer buffer : FederationExecutionSaveFile.map(fileChannel, extents))
+    {
+      region.write(buffer);
+    }
+    region.close();
+
+    return region.getExtents();
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.federation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import hla.rti1516e.ObjectInstanceHandle;
+import hla.rti1516e.RegionHandle;
+
+/**
+ * A digest of the object instances and regions saved by a federation save, the modification stamp each had when it was
+ * saved. The next save of the federation execution compares the stamp of each object instance and region against it
+ * and only saves those modified since, making the save a delta of this one.
+ * <p/>
+ * A delta save depends on every save before it back to the last full save, its chain. Once the chain gets long the save
+ * is compacted in the background into a full save, see {@link FederationExecutionSaveCompaction}.
+ */
+public class FederationExecutionSaveDigest
+{
+  private final String label;
+
+  /**
+   * Identifies the save, a delta save records the identifier of its base.
+   */
+  private final String saveId;
+
+  /**
+   * The labels of the saves that have to be read to restore this save, base first, ending with this save.
+   */
+  private final List<String> chain;
+
+  private final Map<ObjectInstanceHandle, Long> objectInstanceStates = new HashMap<>();
+  private final Map<RegionHandle, Long> regionStates = new HashMap<>();
+
+  private FutureTask<Void> compaction;
+
+  public FederationExecutionSaveDigest(String label, String saveId, FederationExecutionSaveDigest base)
+  {
+    this.label = label;
+    this.saveId = saveId;
+
+    if (base == null)
+    {
+      chain = Collections.singletonList(label);
+    }
+    else
+    {
+      chain = new ArrayList<>(base.getChain());
+      chain.add(label);
+    }
+  }
+
+  public String getLabel()
+  {
+    return label;
+  }
+
+  public String getSaveId()
+  {
+    return saveId;
+  }
+
+  public synchronized List<String> getChain()
+  {
+    return compaction == null ? chain : Collections.singletonList(label);
+  }
+
+  public Map<ObjectInstanceHandle, Long> getObjectInstanceStates()
+  {
+    return objectInstanceStates;
+  }
+
+  public Map<RegionHandle, Long> getRegionStates()
+  {
+    return regionStates;
+  }
+
+  public synchronized void setCompaction(FutureTask<Void> compaction)
+  {
+    this.compaction = compaction;
+  }
+
+  /**
+   * Waits for the compaction of this save, if any, so the saves it reads from can be safely overwritten.
+   */
+  public void awaitCompaction()
+  {
+    FutureTask<Void> compaction;
+    synchronized (this)
+    {
+      compaction = this.compaction;
+    }
+
+    if (compaction != null)
+    {
+      // compacts here if the executor has not got to it yet
+      //
+      compaction.run();
+
+      try
+      {
+        compaction.get();
+      }
+      catch (InterruptedException ie)
+      {
+        Thread.currentThread().interrupt();
+      }
+      catch (ExecutionException ee)
+      {
+        // the save could not be compacted, it is still a delta of the saves in its chain
+
+        synchronized (this)
+        {
+          this.compaction = null;
+        }
+      }
+    }
+  }
+}
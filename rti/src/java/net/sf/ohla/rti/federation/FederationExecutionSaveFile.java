@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.federation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import net.sf.ohla.rti.i18n.ExceptionMessages;
+import net.sf.ohla.rti.i18n.I18n;
+import net.sf.ohla.rti.util.ByteBufferInputStream;
+import net.sf.ohla.rti.util.MoreChannels;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionSaveHeader;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionSaveIndex;
+import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.SaveFileExtent;
+
+/**
+ * The file a federation is saved to. The file starts with the {@link FederationExecutionSaveHeader}, followed by the
+ * state of the federates, the state of the federation execution and the messages received during the save, and ends
+ * with a {@link FederationExecutionSaveIndex} of where each of them was written followed by the position of the index.
+ * <p/>
+ * Everything between the header and the index is written through {@link Region}s. A region reserves a segment at the
+ * end of the file and writes into it in place, reserving a segment twice as large whenever the last one fills up, so
+ * any number of federates can stream their state straight into the file at the same time. Each segment a region wrote
+ * into is recorded as a {@link SaveFileExtent}, the unused end of a segment is left as a hole in the file.
+ * <p/>
+ * A saved file is read back by memory mapping the extents, see {@link #newInputStream(FileChannel, List)}. The object
+ * instances and regions of a delta save are read back by also reading the saves it is a delta of, see
+ * {@link #getChain(Path, String)}.
+ */
+public class FederationExecutionSaveFile
+  implements Closeable
+{
+  public static final int MIN_SEGMENT_SIZE = 64 * 1024;
+  public static final int MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  private final FileChannel fileChannel;
+
+  /**
+   * The end of the last reserved segment.
+   */
+  private long end;
+
+  public FederationExecutionSaveFile(Path saveFile, FederationExecutionSaveHeader federationExecutionSaveHeader)
+    throws IOException
+  {
+    fileChannel = FileChannel.open(
+      saveFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    federationExecutionSaveHeader.writeDelimitedTo(out);
+
+    MoreChannels.writeFully(fileChannel, ByteBuffer.wrap(out.toByteArray()), 0L);
+
+    end = out.size();
+  }
+
+  public Region createRegion()
+  {
+    return new Region();
+  }
+
+  /**
+   * Writes the index at the end of the file. All the regions must have been closed.
+   *
+   * @param federationExecutionSaveIndex the index
+   * @throws IOException if an I/O error occurs
+   */
+  public void writeIndex(FederationExecutionSaveIndex federationExecutionSaveIndex)
+    throws IOException
+  {
+    byte[] index = federationExecutionSaveIndex.toByteArray();
+
+    long position = reserve(index.length + 8);
+
+    ByteBuffer buffer = ByteBuffer.allocate(index.length + 8);
+    buffer.put(index).putLong(position).flip();
+
+    MoreChannels.writeFully(fileChannel, buffer, position);
+  }
+
+  public void close()
+    throws IOException
+  {
+    fileChannel.close();
+  }
+
+  public static Path getSaveFile(Path saveDirectory, String label)
+  {
+    return saveDirectory.resolve(label + FederationExecutionSave.SAVE_FILE_EXTENSION);
+  }
+
+  /**
+   * Returns the save files that have to be read to restore the specified save. A delta save is restored by restoring
+   * its base save first, see {@link FederationExecutionSaveDigest}. The base is found by its label and has to be the
+   * save the delta was taken of, not a later save under the same label.
+   *
+   * @param saveDirectory the directory the federation execution is saved to
+   * @param label the label of the save
+   * @return the save files, base first, ending with the save file of the specified save
+   * @throws IOException if an I/O error occurs or a save the chain depends on is missing or has been replaced
+   */
+  public static List<Path> getChain(Path saveDirectory, String label)
+    throws IOException
+  {
+    LinkedList<Path> chain = new LinkedList<>();
+
+    Set<String> labels = new HashSet<>();
+    String nextLabel = label;
+    String nextSaveId = null;
+    while (nextLabel != null)
+    {
+      Path saveFile = getSaveFile(saveDirectory, nextLabel);
+      if (!labels.add(nextLabel) || !Files.exists(saveFile))
+      {
+        throw new IOException(I18n.getMessage(ExceptionMessages.BROKEN_FEDERATION_SAVE_CHAIN, label, nextLabel));
+      }
+
+      chain.addFirst(saveFile);
+
+      try (FileChannel fileChannel = FileChannel.open(saveFile, StandardOpenOption.READ))
+      {
+        FederationExecutionSaveHeader federationExecutionSaveHeader = readHeader(fileChannel);
+        if (nextSaveId != null && !nextSaveId.equals(federationExecutionSaveHeader.getSaveId()))
+        {
+          throw new IOException(I18n.getMessage(ExceptionMessages.BROKEN_FEDERATION_SAVE_CHAIN, label, nextLabel));
+        }
+
+        nextLabel = federationExecutionSaveHeader.hasBaseLabel() ? federationExecutionSaveHeader.getBaseLabel() : null;
+        nextSaveId =
+          federationExecutionSaveHeader.hasBaseSaveId() ? federationExecutionSaveHeader.getBaseSaveId() : null;
+      }
+    }
+
+    return chain;
+  }
+
+  public static FederationExecutionSaveHeader readHeader(FileChannel fileChannel)
+    throws IOException
+  {
+    return FederationExecutionSaveHeader.parseDelimitedFrom(Channels.newInputStream(fileChannel.position(0L)));
+  }
+
+  public static FederationExecutionSaveIndex readIndex(FileChannel fileChannel)
+    throws IOException
+  {
+    long size = fileChannel.size();
+
+    ByteBuffer buffer = ByteBuffer.allocate(8);
+    MoreChannels.readFully(fileChannel, buffer, size - 8);
+
+    long position = buffer.getLong(0);
+
+    return FederationExecutionSaveIndex.parseFrom(new ByteBufferInputStream(Collections.singletonList(
+      fileChannel.map(FileChannel.MapMode.READ_ONLY, position, size - 8 - position))));
+  }
+
+  /**
+   * Memory maps the specified extents of a save file.
+   *
+   * @param fileChannel the save file
+   * @param extents the extents
+   * @return the mapped extents, in order
+   * @throws IOException if an I/O error occurs
+   */
+  public static List<ByteBuffer> map(FileChannel fileChannel, List<SaveFileExtent> extents)
+    throws IOException
+  {
+    List<ByteBuffer> buffers = new ArrayList<>(extents.size());
+    for (SaveFileExtent extent : extents)
+    {
+      buffers.add(fileChannel.map(FileChannel.MapMode.READ_ONLY, extent.getPosition(), extent.getLength()));
+    }
+    return buffers;
+  }
+
+  public static InputStream newInputStream(FileChannel fileChannel, List<SaveFileExtent> extents)
+    throws IOException
+  {
+    return new ByteBufferInputStream(map(fileChannel, extents));
+  }
+
+  private synchronized long reserve(long size)
+  {
+    long position = end;
+    end += size;
+    return position;
+  }
+
+  /**
+   * Writes a stream of bytes into segments of the save file. A region is not thread-safe, but different regions can be
+   * written to at the same time.
+   */
+  public class Region
+    extends OutputStream
+  {
+    private final List<SaveFileExtent> extents = new ArrayList<>();
+
+    private int segmentSize = MIN_SEGMENT_SIZE / 2;
+
+    private long extentPosition;
+    private long position;
+    private long remaining;
+
+    private long length;
+
+    public List<SaveFileExtent> getExtents()
+    {
+      return extents;
+    }
+
+    public long getLength()
+    {
+      return length;
+    }
+
+    @Override
+    public void write(int b)
+      throws IOException
+    {
+      write(ByteBuffer.wrap(new byte[] { (byte) b }));
+    }
+
+    @Override
+    public void write(byte[] b, int offset, int length)
+      throws IOException
+    {
+      write(ByteBuffer.wrap(b, offset, length));
+    }
+
+    public void write(ByteBuffer buffer)
+      throws IOException
+    {
+      while (buffer.hasRemaining())
+      {
+        if (remaining == 0L)
+        {
+          nextSegment();
+        }
+
+        int bytesToWrite = (int) Math.min(remaining, buffer.remaining());
+
+        ByteBuffer segment = buffer.duplicate();
+        segment.limit(segment.position() + bytesToWrite);
+
+        MoreChannels.writeFully(fileChannel, segment, position);
+
+        buffer.position(buffer.position() + bytesToWrite);
+
+        position += bytesToWrite;
+        remaining -= bytesToWrite;
+        length += bytesToWrite;
+      }
+    }
+
+    /**
+     * Records the extent of the segment being written into, after which {@link #getExtents()} is complete.
+     */
+    @Override
+    public void close()
+    {
+      finishSegment();
+
+      remaining = 0L;
+    }
+
+    private void nextSegment()
+    {
+      finishSegment();
+
+      segmentSize = Math.min(MAX_SEGMENT_SIZE, segmentSize * 2);
+
+      extentPosition = position = reserve(segmentSize);
+      remaining = segmentSize;
+    }
+
+    private void finishSegment()
+    {
+      if (position > extentPosition)
+      {
+        extents.add(SaveFileExtent.newBuilder().setPosition(extentPosition).setLength(
+          position - extentPosition).build());
+
+        extentPosition = position;
+      }
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.federation;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeInterval;
+import hla.rti1516e.exceptions.IllegalTimeArithmetic;
+import hla.rti1516e.exceptions.InvalidLogicalTimeInterval;
+
+/**
+ * A federation save scheduled at a logical time. The federation execution compares the save time against the GALT
+ * each time the GALT is updated and starts the save once the GALT passes it, so a scheduled save costs a single
+ * comparison per GALT update. An undefined GALT, once no federate is time regulating, is past every save time.
+ * <p/>
+ * A recurring save is rescheduled an interval later each time it is over. Each recurring save is labelled with the
+ * label followed by a dash and the number of the save, starting at 0.
+ */
+public class FederationExecutionScheduledSave
+{
+  private final String label;
+  private final LogicalTimeInterval interval;
+
+  private volatile LogicalTime saveTime;
+  private volatile int count;
+
+  /**
+   * Set once the GALT has passed the save time, so the GALT updates that follow do not start the save again.
+   */
+  private final AtomicBoolean triggered = new AtomicBoolean();
+
+  private boolean started;
+
+  public FederationExecutionScheduledSave(String label, LogicalTime saveTime, LogicalTimeInterval interval)
+  {
+    this.label = label;
+    this.saveTime = saveTime;
+    this.interval = interval;
+  }
+
+  public String getLabel()
+  {
+    return interval == null ? label : label + "-" + count;
+  }
+
+  public LogicalTime getSaveTime()
+  {
+    return saveTime;
+  }
+
+  public boolean isRecurring()
+  {
+    return interval != null;
+  }
+
+  public boolean isStarted()
+  {
+    return started;
+  }
+
+  /**
+   * Returns {@code true} the first time the GALT passes the save time, when no time stamp ordered messages at or
+   * before the save time can be sent anymore.
+   *
+   * @param galt the GALT, {@code null} if it is undefined
+   * @return {@code true} if the save should be started
+   */
+  @SuppressWarnings("unchecked")
+  public boolean trigger(LogicalTime galt)
+  {
+    return (galt == null || saveTime.compareTo(galt) < 0) && triggered.compareAndSet(false, true);
+  }
+
+  /**
+   * Called if the save could not be started when it was triggered, so the next GALT update triggers it again.
+   */
+  public void reset()
+  {
+    triggered.set(false);
+  }
+
+  public void started()
+  {
+    started = true;
+  }
+
+  /**
+   * Reschedules a recurring save an interval later.
+   *
+   * @return {@code false} if the save cannot be rescheduled because the next save time is past the final time
+   */
+  @SuppressWarnings("unchecked")
+  public boolean next()
+  {
+    boolean next;
+    try
+    {
+      saveTime = saveTime.add(interval);
+      count++;
+
+      started = false;
+      triggered.set(false);
+
+      next = true;
+    }
+    catch (IllegalTimeArithmetic | InvalidLogicalTimeInterval e)
+    {
+      next = false;
+    }
+    return next;
+  }
+}
@@ -18,18 +18,26 @@ package net.sf.ohla.rti.federation;
 
 import java.io.IOException;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import net.sf.ohla.rti.federate.TimeAdvanceType;
 import net.sf.ohla.rti.util.FederateHandles;
+import net.sf.ohla.rti.util.IndexedMinHeap;
+import net.sf.ohla.rti.util.LogicalTimeType;
 import net.sf.ohla.rti.util.LogicalTimes;
 import net.sf.ohla.rti.i18n.I18nLogger;
 import net.sf.ohla.rti.i18n.LogMessages;
+import net.sf.ohla.rti.messages.AcknowledgeLOTS;
 import net.sf.ohla.rti.messages.EnableTimeRegulation;
 import net.sf.ohla.rti.messages.FlushQueueRequest;
+import net.sf.ohla.rti.messages.LOTSUpdated;
 import net.sf.ohla.rti.messages.ModifyLookahead;
 import net.sf.ohla.rti.messages.NextMessageRequest;
 import net.sf.ohla.rti.messages.NextMessageRequestAvailable;
@@ -39,6 +47,7 @@ import net.sf.ohla.rti.messages.QueryLITS;
 import net.sf.ohla.rti.messages.QueryLITSResponse;
 import net.sf.ohla.rti.messages.TimeAdvanceRequest;
 import net.sf.ohla.rti.messages.TimeAdvanceRequestAvailable;
+import net.sf.ohla.rti.messages.UpdateLOTS;
 import net.sf.ohla.rti.proto.FederationExecutionSaveProtos.FederationExecutionState.FederationExecutionTimeManagerState;
 
 import com.google.protobuf.CodedInputStream;
@@ -50,19 +59,98 @@ import hla.rti1516e.LogicalTimeInterval;
 import hla.rti1516e.exceptions.IllegalTimeArithmetic;
 import hla.rti1516e.exceptions.InvalidLogicalTimeInterval;
 
+/**
+ * Coordinates the time advances of the federates in a federation execution.
+ * <p/>
+ * By default the RTI grants every time advance from the LOTS of the time regulating federates. When the RTI's
+ * {@value #OHLA_RTI_TIME_MANAGEMENT_DISTRIBUTED_PROPERTY} system property is set, or
+ * {@value #OHLA_RTI_TIME_MANAGEMENT_DISTRIBUTED_PROPERTY_FORMAT} for a single federation execution, time management is
+ * distributed: each time regulating federate announces its own LOTS, the RTI relays it to the time constrained
+ * federates along with the time stamp ordered messages and every time constrained federate computes its own GALT and
+ * grants its own time advances. The RTI then only takes part when a federate becomes time regulating, which needs the
+ * LITS of the time constrained federates.
+ * <p/>
+ * A time constrained federate may only grant past a message once it has seen every message below the LOTS it relies
+ * on, so each LOTS travels behind the messages it bounds. A federate writes its messages and its LOTS to the one
+ * channel to the RTI, the RTI handles the messages of a channel one at a time in order, and forwards messages and
+ * relays LOTS alike by writing them to the channel of each time constrained federate, which the federate again handles
+ * in order. Time stamp ordered messages are never sent as datagrams, and the outbound queue of an overloaded federate
+ * never drops or conflates them whatever their transportation, so nothing overtakes them and none is silently lost.
+ * <p/>
+ * When the {@value #OHLA_RTI_TIME_MANAGEMENT_OPTIMISTIC_PROPERTY} system property is set, or
+ * {@value #OHLA_RTI_TIME_MANAGEMENT_OPTIMISTIC_PROPERTY_FORMAT} for a single federation execution, time management is
+ * distributed and optimistic: a time constrained federate whose ambassador is an
+ * {@link net.sf.ohla.rti.hla.rti1516e.OptimisticFederateAmbassador} grants its time advances right away and is rolled
+ * back when a straggler or an anti-message, the retraction of a message it already received, arrives. The federation-wide
+ * GALT is then the GVT, no federate can be rolled back or sent an anti-message below it, and retractable messages are
+ * only expired once they fall below it.
+ */
 public class FederationExecutionTimeManager
 {
+  public static final String OHLA_RTI_TIME_MANAGEMENT_DISTRIBUTED_PROPERTY = "ohla.rti.timeManagement.distributed";
+  public static final String OHLA_RTI_TIME_MANAGEMENT_OPTIMISTIC_PROPERTY = "ohla.rti.timeManagement.optimistic";
+
+  /**
+   * Distributes time management in the named federation execution only.
+   */
+  public static final String OHLA_RTI_TIME_MANAGEMENT_DISTRIBUTED_PROPERTY_FORMAT =
+    "ohla.rti.federationExecution.%s.timeManagement.distributed";
+
+  /**
+   * Makes time management optimistic in the named federation execution only.
+   */
+  public static final String OHLA_RTI_TIME_MANAGEMENT_OPTIMISTIC_PROPERTY_FORMAT =
+    "ohla.rti.federationExecution.%s.timeManagement.optimistic";
+
   private final FederationExecution federationExecution;
   private final LogicalTimeFactory logicalTimeFactory;
+
+  /**
+   * Detected from the {@link #logicalTimeFactory}, primitive time types order the queued messages by raw time keys.
+   */
+  private final LogicalTimeType logicalTimeType;
+
   private final LogicalTime initialTime;
   private final LogicalTime finalTime;
   private final LogicalTimeInterval epsilon;
 
+  private final boolean optimistic;
+  private final boolean distributed;
+
   private final ReentrantReadWriteLock timeLock = new ReentrantReadWriteLock(true);
 
   private final Set<FederateHandle> timeRegulatingFederates = new HashSet<>();
   private final Set<FederateHandle> timeConstrainedFederates = new HashSet<>();
 
+  /**
+   * The LOTS of each time regulating federate. The least LOTS is the federation-wide GALT and the least LOTS excluding
+   * a time regulating federate is that federate's GALT.
+   * <p/>
+   * Unlike the queued messages these are kept as {@link LogicalTime}s rather than raw time keys. A LOTS only changes
+   * once per time advance of its federate, the heap compares the times it already holds without allocating, and the
+   * GALT handed out is one of these times, so keys would only add a conversion back on every query.
+   */
+  private final IndexedMinHeap<FederateHandle, LogicalTime> timeRegulatingFederateLOTS = new IndexedMinHeap<>();
+
+  /**
+   * Set after a restore since the federates are restored after the time manager, the next message requesting federates
+   * are rebuilt along with the LOTS.
+   */
+  private boolean rebuildTimeRegulatingFederateLOTS;
+
+  /**
+   * The time constrained federates that may be awaiting a next message request (available) grant, only pruned when
+   * visited. The grant can come from the LITS of the federate, which changes while its GALT does not, so these are
+   * notified on every recalculation of the GALT.
+   */
+  private final Set<FederateProxy> nextMessageRequestingFederates = new HashSet<>();
+
+  /**
+   * The federates becoming time regulating under distributed time management, waiting on the LITS of the time
+   * constrained federates.
+   */
+  private final Map<FederateHandle, PendingTimeRegulation> pendingTimeRegulations = new HashMap<>();
+
   private final I18nLogger logger;
 
   /**
@@ -75,10 +163,18 @@ public class FederationExecutionTimeManager
     this.federationExecution = federationExecution;
     this.logicalTimeFactory = logicalTimeFactory;
 
+    logicalTimeType = LogicalTimeType.of(logicalTimeFactory);
+
     initialTime = logicalTimeFactory.makeInitial();
     finalTime = logicalTimeFactory.makeFinal();
     epsilon = logicalTimeFactory.makeEpsilon();
 
+    String name = federationExecution.getName();
+    optimistic = Boolean.getBoolean(OHLA_RTI_TIME_MANAGEMENT_OPTIMISTIC_PROPERTY) ||
+                 Boolean.getBoolean(String.format(OHLA_RTI_TIME_MANAGEMENT_OPTIMISTIC_PROPERTY_FORMAT, name));
+    distributed = optimistic || Boolean.getBoolean(OHLA_RTI_TIME_MANAGEMENT_DISTRIBUTED_PROPERTY) ||
+                  Boolean.getBoolean(String.format(OHLA_RTI_TIME_MANAGEMENT_DISTRIBUTED_PROPERTY_FORMAT, name));
+
     logger = I18nLogger.getLogger(federationExecution.getMarker(), FederationExecutionTimeManager.class);
   }
 
@@ -87,6 +183,21 @@ public class FederationExecutionTimeManager
     return logicalTimeFactory;
   }
 
+  public LogicalTimeType getLogicalTimeType()
+  {
+    return logicalTimeType;
+  }
+
+  public boolean isDistributed()
+  {
+    return distributed;
+  }
+
+  public boolean isOptimistic()
+  {
+    return optimistic;
+  }
+
   public ReentrantReadWriteLock getTimeLock()
   {
     return timeLock;
@@ -186,6 +297,11 @@ public class FederationExecutionTimeManager
     {
       timeRegulatingFederates.remove(federateProxy.getFederateHandle());
 
+      FederateHandle oldLeastLOTSFederateHandle = getTimeRegulatingFederateLOTS().peekKey();
+      LogicalTime oldLeastLOTS = timeRegulatingFederateLOTS.peekValue();
+
+      timeRegulatingFederateLOTS.remove(federateProxy.getFederateHandle());
+
       if (timeRegulatingFederates.isEmpty())
       {
         // no more time regulating federates
@@ -230,36 +346,15 @@ public class FederationExecutionTimeManager
 
         // find the least LOTS of the time regulating federates
         //
-        LogicalTime leastTimeRegulatingLOTS = finalTime;
-        for (FederateHandle timeRegulatingFederateHandle : timeRegulatingFederates)
-        {
-          leastTimeRegulatingLOTS = min(
-            leastTimeRegulatingLOTS, federationExecution.getFederate(timeRegulatingFederateHandle).getLOTS());
-        }
+        LogicalTime leastTimeRegulatingLOTS = timeRegulatingFederateLOTS.peekValue();
 
         if (leastTimeRegulatingLOTS.equals(galt))
         {
-          // federation-wide GALT did not change 
-
-          // recalculate the GALT for each time regulating federate
-          //
-          for (FederateHandle timeRegulatingFederateHandle : timeRegulatingFederates)
-          {
-            FederateProxy timeRegulatingFederate = federationExecution.getFederate(timeRegulatingFederateHandle);
+          // federation-wide GALT did not change
 
-            LogicalTime newGALT = finalTime;
-            for (FederateHandle timeRegulatingFederateHandle2 : timeRegulatingFederates)
-            {
-              FederateProxy timeRegulatingFederate2 = federationExecution.getFederate(timeRegulatingFederateHandle2);
-
-              if (timeRegulatingFederate != timeRegulatingFederate2)
-              {
-                newGALT = min(newGALT, timeRegulatingFederate.getLOTS());
-              }
-            }
+          timeRegulatingFederatesGALTUpdated(oldLeastLOTSFederateHandle, oldLeastLOTS);
 
-            timeRegulatingFederate.galtUpdated(newGALT);
-          }
+          nextMessageRequestingFederatesGALTUpdated();
         }
         else
         {
@@ -270,25 +365,7 @@ public class FederationExecutionTimeManager
 
           logger.debug(LogMessages.GALT_UPDATED, oldGALT, galt);
 
-          // recalculate the GALT for each time regulating federate
-          //
-          for (FederateHandle timeRegulatingFederateHandle : timeRegulatingFederates)
-          {
-            FederateProxy timeRegulatingFederate = federationExecution.getFederate(timeRegulatingFederateHandle);
-
-            LogicalTime newGALT = finalTime;
-            for (FederateHandle timeRegulatingFederateHandle2 : timeRegulatingFederates)
-            {
-              FederateProxy timeRegulatingFederate2 = federationExecution.getFederate(timeRegulatingFederateHandle2);
-
-              if (timeRegulatingFederate != timeRegulatingFederate2)
-              {
-                newGALT = min(newGALT, timeRegulatingFederate.getLOTS());
-              }
-            }
-
-            timeRegulatingFederate.galtUpdated(newGALT);
-          }
+          timeRegulatingFederatesGALTUpdated(oldLeastLOTSFederateHandle, oldLeastLOTS);
 
           for (FederateProxy f : federationExecution.getFederates().values())
           {
@@ -340,13 +417,255 @@ public class FederationExecutionTimeManager
     }
   }
 
+  /**
+   * Starts a federate becoming time regulating under distributed time management. The time constrained federates are
+   * told the LOTS the federate would have at its current time and each answers with its LITS, once all have answered
+   * the federate's time is moved past them the same way it would be under central time management.
+   */
+  @SuppressWarnings("unchecked")
+  public void enableDistributedTimeRegulation(FederateProxy federateProxy, EnableTimeRegulation enableTimeRegulation)
+  {
+    timeLock.writeLock().lock();
+    try
+    {
+      FederateHandle federateHandle = federateProxy.getFederateHandle();
+
+      PendingTimeRegulation pendingTimeRegulation = new PendingTimeRegulation(
+        federateProxy, enableTimeRegulation.getLookahead(), enableTimeRegulation.getTime());
+
+      pendingTimeRegulation.awaitingFederateHandles.addAll(timeConstrainedFederates);
+      pendingTimeRegulation.awaitingFederateHandles.remove(federateHandle);
+
+      if (pendingTimeRegulation.awaitingFederateHandles.isEmpty())
+      {
+        distributedTimeRegulationEnabled(pendingTimeRegulation);
+      }
+      else
+      {
+        pendingTimeRegulations.put(federateHandle, pendingTimeRegulation);
+
+        LogicalTime lots = pendingTimeRegulation.federateTime.add(pendingTimeRegulation.lookahead);
+
+        synchronized (timeRegulatingFederateLOTS)
+        {
+          timeRegulatingFederateLOTS.put(federateHandle, lots);
+
+          distributedGALTUpdated();
+        }
+
+        LOTSUpdated lotsUpdated = new LOTSUpdated(federateHandle, logicalTimeFactory, lots, true);
+        for (FederateHandle timeConstrainedFederateHandle : pendingTimeRegulation.awaitingFederateHandles)
+        {
+          federationExecution.getFederate(timeConstrainedFederateHandle).getFederateChannel().write(lotsUpdated);
+        }
+      }
+    }
+    catch (IllegalTimeArithmetic | InvalidLogicalTimeInterval e)
+    {
+      logger.error(LogMessages.UNABLE_TO_ENABLE_TIME_REGULATION, e);
+    }
+    finally
+    {
+      timeLock.writeLock().unlock();
+    }
+  }
+
+  public void acknowledgeLOTS(FederateProxy federateProxy, AcknowledgeLOTS acknowledgeLOTS)
+  {
+    timeLock.writeLock().lock();
+    try
+    {
+      PendingTimeRegulation pendingTimeRegulation =
+        pendingTimeRegulations.get(acknowledgeLOTS.getTimeRegulatingFederateHandle());
+      if (pendingTimeRegulation != null &&
+          pendingTimeRegulation.awaitingFederateHandles.remove(federateProxy.getFederateHandle()))
+      {
+        pendingTimeRegulation.maxLITS = max(pendingTimeRegulation.maxLITS, acknowledgeLOTS.getLITS());
+
+        if (pendingTimeRegulation.awaitingFederateHandles.isEmpty())
+        {
+          distributedTimeRegulationEnabled(pendingTimeRegulation);
+        }
+      }
+    }
+    catch (IllegalTimeArithmetic | InvalidLogicalTimeInterval e)
+    {
+      logger.error(LogMessages.UNABLE_TO_ENABLE_TIME_REGULATION, e);
+    }
+    finally
+    {
+      timeLock.writeLock().unlock();
+    }
+  }
+
+  public void disableDistributedTimeRegulation(FederateProxy federateProxy)
+  {
+    timeLock.writeLock().lock();
+    try
+    {
+      if (timeRegulatingFederates.remove(federateProxy.getFederateHandle()))
+      {
+        distributeLOTS(federateProxy.getFederateHandle(), null);
+      }
+
+      federateProxy.disableTimeRegulation();
+    }
+    finally
+    {
+      timeLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Makes a federate time constrained under distributed time management. The RTI starts forwarding it time stamp
+   * ordered messages right away and hands it the LOTS of every time regulating federate, the federate itself decides
+   * when it is constrained.
+   */
+  public void enableDistributedTimeConstrained(FederateProxy federateProxy)
+  {
+    timeLock.writeLock().lock();
+    try
+    {
+      FederateHandle federateHandle = federateProxy.getFederateHandle();
+
+      timeConstrainedFederates.add(federateHandle);
+
+      Map<FederateHandle, LogicalTime> lots = new HashMap<>();
+      synchronized (timeRegulatingFederateLOTS)
+      {
+        for (FederateHandle timeRegulatingFederateHandle : timeRegulatingFederates)
+        {
+          lots.put(timeRegulatingFederateHandle, timeRegulatingFederateLOTS.get(timeRegulatingFederateHandle));
+        }
+        for (FederateHandle timeRegulatingFederateHandle : pendingTimeRegulations.keySet())
+        {
+          lots.put(timeRegulatingFederateHandle, timeRegulatingFederateLOTS.get(timeRegulatingFederateHandle));
+        }
+      }
+      lots.remove(federateHandle);
+
+      federateProxy.enableDistributedTimeConstrained(new LOTSUpdated(logicalTimeFactory, lots));
+    }
+    finally
+    {
+      timeLock.writeLock().unlock();
+    }
+  }
+
+  public void disableDistributedTimeConstrained(FederateProxy federateProxy)
+  {
+    timeLock.writeLock().lock();
+    try
+    {
+      timeConstrainedFederates.remove(federateProxy.getFederateHandle());
+
+      federateProxy.disableTimeConstrained();
+
+      // the federate no longer holds back any federate becoming time regulating
+      //
+      awaitingFederateRemoved(federateProxy.getFederateHandle());
+    }
+    catch (IllegalTimeArithmetic | InvalidLogicalTimeInterval e)
+    {
+      logger.error(LogMessages.UNABLE_TO_ENABLE_TIME_REGULATION, e);
+    }
+    finally
+    {
+      timeLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Records the LOTS a time regulating federate announced under distributed time management and relays it to the time
+   * constrained federates.
+   */
+  public void updateLOTS(FederateProxy federateProxy, UpdateLOTS updateLOTS)
+  {
+    // LOTS are only ordered against the time stamp ordered messages, which take the write lock, the LOTS of different
+    // federates are independent of each other
+    //
+    timeLock.readLock().lock();
+    try
+    {
+      if (timeRegulatingFederates.contains(federateProxy.getFederateHandle()))
+      {
+        distributeLOTS(federateProxy.getFederateHandle(), updateLOTS.getLOTS());
+      }
+    }
+    finally
+    {
+      timeLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Cleans up after a federate that resigned while time regulating or constrained under distributed time management,
+   * or while awaiting a next message request grant under central time management.
+   */
+  public void resignFederationExecution(FederateProxy federateProxy)
+  {
+    if (distributed)
+    {
+      timeLock.writeLock().lock();
+      try
+      {
+        FederateHandle federateHandle = federateProxy.getFederateHandle();
+
+        if (timeRegulatingFederates.remove(federateHandle) || pendingTimeRegulations.remove(federateHandle) != null)
+        {
+          distributeLOTS(federateHandle, null);
+        }
+
+        if (timeConstrainedFederates.remove(federateHandle))
+        {
+          awaitingFederateRemoved(federateHandle);
+        }
+      }
+      catch (IllegalTimeArithmetic | InvalidLogicalTimeInterval e)
+      {
+        logger.error(LogMessages.UNABLE_TO_ENABLE_TIME_REGULATION, e);
+      }
+      finally
+      {
+        timeLock.writeLock().unlock();
+      }
+    }
+    else
+    {
+      timeLock.writeLock().lock();
+      try
+      {
+        nextMessageRequestingFederates.remove(federateProxy);
+      }
+      finally
+      {
+        timeLock.writeLock().unlock();
+      }
+    }
+  }
+
   public void queryGALT(FederateProxy federateProxy, QueryGALT queryGALT)
   {
     timeLock.readLock().lock();
     try
     {
+      LogicalTime galt;
+      if (distributed)
+      {
+        // time constrained federates answer themselves
+        //
+        synchronized (timeRegulatingFederateLOTS)
+        {
+          galt = timeRegulatingFederateLOTS.peekValueExcluding(federateProxy.getFederateHandle());
+        }
+      }
+      else
+      {
+        galt = federateProxy.getGALT();
+      }
+
       federateProxy.getFederateChannel().write(
-        new QueryGALTResponse(queryGALT.getRequestId(), federateProxy.getGALT()));
+        new QueryGALTResponse(queryGALT.getRequestId(), logicalTimeFactory, galt));
     }
     finally
     {
@@ -359,8 +678,23 @@ public class FederationExecutionTimeManager
     timeLock.readLock().lock();
     try
     {
+      LogicalTime lits;
+      if (distributed)
+      {
+        // time constrained federates answer themselves, the others have no queued messages
+        //
+        synchronized (timeRegulatingFederateLOTS)
+        {
+          lits = timeRegulatingFederateLOTS.peekValueExcluding(federateProxy.getFederateHandle());
+        }
+      }
+      else
+      {
+        lits = federateProxy.getLITSOrGALT();
+      }
+
       federateProxy.getFederateChannel().write(
-        new QueryLITSResponse(queryLITS.getRequestId(), federateProxy.getLITSOrGALT()));
+        new QueryLITSResponse(queryLITS.getRequestId(), logicalTimeFactory, lits));
     }
     finally
     {
@@ -441,6 +775,11 @@ public class FederationExecutionTimeManager
 
       federateProxy.nextMessageRequest(time);
 
+      if (federateProxy.isTimeConstrainedEnabled() && federateProxy.getAdvanceRequestTime() != null)
+      {
+        nextMessageRequestingFederates.add(federateProxy);
+      }
+
       if (federateProxy.isTimeRegulationEnabled())
       {
         recalculateGALT(federateProxy);
@@ -466,6 +805,11 @@ public class FederationExecutionTimeManager
 
       federateProxy.nextMessageRequestAvailable(time);
 
+      if (federateProxy.isTimeConstrainedEnabled() && federateProxy.getAdvanceRequestTime() != null)
+      {
+        nextMessageRequestingFederates.add(federateProxy);
+      }
+
       if (federateProxy.isTimeRegulationEnabled())
       {
         recalculateGALT(federateProxy);
@@ -515,7 +859,7 @@ public class FederationExecutionTimeManager
 
     if (galt != null)
     {
-      timeManagerState.setGalt(LogicalTimes.convert(galt));
+      timeManagerState.setGalt(LogicalTimes.convert(logicalTimeFactory, galt));
     }
 
     out.writeMessageNoTag(timeManagerState.build());
@@ -532,6 +876,10 @@ public class FederationExecutionTimeManager
 
     timeRegulatingFederates.addAll(
       FederateHandles.convertFromProto(timeManagerState.getTimeRegulatingFederateHandlesList()));
+
+    timeRegulatingFederateLOTS.clear();
+    nextMessageRequestingFederates.clear();
+    rebuildTimeRegulatingFederateLOTS = !timeRegulatingFederates.isEmpty();
     timeConstrainedFederates.addAll(
       FederateHandles.convertFromProto(timeManagerState.getTimeConstrainedFederateHandlesList()));
 
@@ -547,6 +895,14 @@ public class FederationExecutionTimeManager
   {
     assert timeRegulatingFederates.size() > 0;
 
+    // the LOTS rebuilt after a restore already hold the federate's new LOTS, the old least LOTS is then unknown
+    //
+    boolean rebuilt = rebuildTimeRegulatingFederateLOTS;
+    FederateHandle oldLeastLOTSFederateHandle = getTimeRegulatingFederateLOTS().peekKey();
+    LogicalTime oldLeastLOTS = rebuilt ? null : timeRegulatingFederateLOTS.peekValue();
+
+    lotsUpdated(federateProxy);
+
     if (timeRegulatingFederates.size() == 1)
     {
       LogicalTime oldGALT = galt;
@@ -566,7 +922,9 @@ public class FederationExecutionTimeManager
     }
     else
     {
-      LogicalTime potentialGALT = finalTime;
+      // the potential federation-wide GALT is the least LOTS of the time regulating federates
+      //
+      LogicalTime potentialGALT = timeRegulatingFederateLOTS.peekValue();
 
       // track any time regulating-and-constrained federates that are awaiting advances from a next message request
       //
@@ -578,40 +936,34 @@ public class FederationExecutionTimeManager
       //
       LogicalTime smallestLITS = null;
 
-      // calculate the potential federation-wide GALT
-      //
-      for (FederateHandle timeRegulatingFederateHandle : timeRegulatingFederates)
+      for (Iterator<FederateProxy> i = nextMessageRequestingFederates.iterator(); i.hasNext();)
       {
-        FederateProxy timeRegulatingFederate = federationExecution.getFederate(timeRegulatingFederateHandle);
+        FederateProxy nextMessageRequestingFederate = i.next();
 
-        potentialGALT = min(potentialGALT, timeRegulatingFederate.getLOTS());
-
-        if (timeRegulatingFederate.isTimeConstrainedEnabled() && timeRegulatingFederate.getAdvanceRequestTime() != null)
+        if (!isAwaitingNextMessageRequestTimeAdvanceGrant(nextMessageRequestingFederate))
+        {
+          i.remove();
+        }
+        else if (nextMessageRequestingFederate.isTimeRegulationEnabled())
         {
-          // this federate is constrained and awaiting a time advance grant
+          // this federate is regulating, constrained and awaiting a time advance grant from a next message request
 
-          switch (timeRegulatingFederate.getAdvanceRequestType())
+          if (timeRegulatingAndConstrainedFederatesAwaitingNextMessageRequestTimeAdvanceGrant == null)
           {
-            case NEXT_MESSAGE_REQUEST:
-            case NEXT_MESSAGE_REQUEST_AVAILABLE:
-              if (timeRegulatingAndConstrainedFederatesAwaitingNextMessageRequestTimeAdvanceGrant == null)
-              {
-                timeRegulatingAndConstrainedFederatesAwaitingNextMessageRequestTimeAdvanceGrant = new HashMap<>();
-              }
-
-              LogicalTime lits = timeRegulatingFederate.getLITS(potentialGALT);
-              timeRegulatingAndConstrainedFederatesAwaitingNextMessageRequestTimeAdvanceGrant.put(
-                timeRegulatingFederate, lits);
-
-              if (smallestLITS == null)
-              {
-                smallestLITS = lits;
-              }
-              else if (lits != null)
-              {
-                smallestLITS = min(smallestLITS, lits);
-              }
-              break;
+            timeRegulatingAndConstrainedFederatesAwaitingNextMessageRequestTimeAdvanceGrant = new HashMap<>();
+          }
+
+          LogicalTime lits = nextMessageRequestingFederate.getLITS(potentialGALT);
+          timeRegulatingAndConstrainedFederatesAwaitingNextMessageRequestTimeAdvanceGrant.put(
+            nextMessageRequestingFederate, lits);
+
+          if (smallestLITS == null)
+          {
+            smallestLITS = lits;
+          }
+          else if (lits != null)
+          {
+            smallestLITS = min(smallestLITS, lits);
           }
         }
       }
@@ -639,6 +991,8 @@ public class FederationExecutionTimeManager
           {
             newGALT = min(potentialGALT, federateProxy.getLOTS());
             entry.getKey().adjustNextMessageRequestAdvanceRequestTime(smallestLITS);
+
+            lotsUpdated(entry.getKey());
           }
         }
 
@@ -653,46 +1007,262 @@ public class FederationExecutionTimeManager
               entry.getValue().compareTo(newGALT) <= 0)
           {
             entry.getKey().adjustNextMessageRequestAdvanceRequestTime(entry.getValue());
+
+            lotsUpdated(entry.getKey());
           }
         }
       }
 
       logger.debug(LogMessages.GALT_UPDATED, galt, newGALT);
 
+      boolean galtAdvanced = !newGALT.equals(galt);
+
       galt = newGALT;
 
       federationExecution.galtUpdated(galt);
 
-      for (FederateHandle timeRegulatingFederateHandle : timeRegulatingFederates)
-      {
-        FederateProxy timeRegulatingFederate = federationExecution.getFederate(timeRegulatingFederateHandle);
+      timeRegulatingFederatesGALTUpdated(oldLeastLOTSFederateHandle, oldLeastLOTS);
 
-        // recalculate the GALT for each time regulating federate
+      // the federate may have become time regulating, its GALT was then undefined
+      //
+      federateProxy.galtUpdated(timeRegulatingFederateLOTS.peekValueExcluding(federateProxy.getFederateHandle()));
+
+      if (galtAdvanced)
+      {
+        // notify the non time regulating federates that GALT has advanced
         //
-        LogicalTime newLocalGALT = finalTime;
-        for (FederateHandle timeRegulatingFederateHandle2 : timeRegulatingFederates)
+        for (FederateProxy f : federationExecution.getFederates().values())
         {
-          FederateProxy timeRegulatingFederate2 = federationExecution.getFederate(timeRegulatingFederateHandle2);
-
-          if (timeRegulatingFederate != timeRegulatingFederate2)
+          if (!f.isTimeRegulationEnabled())
           {
-            newLocalGALT = min(newLocalGALT, timeRegulatingFederate2.getLOTS());
+            f.galtUpdated(galt);
           }
         }
+      }
+      else
+      {
+        nextMessageRequestingFederatesGALTUpdated();
+      }
+    }
+  }
+
+  /**
+   * Completes a federate becoming time regulating under distributed time management.
+   */
+  @SuppressWarnings("unchecked")
+  private void distributedTimeRegulationEnabled(PendingTimeRegulation pendingTimeRegulation)
+    throws IllegalTimeArithmetic, InvalidLogicalTimeInterval
+  {
+    FederateProxy federateProxy = pendingTimeRegulation.federateProxy;
+    LogicalTimeInterval lookahead = pendingTimeRegulation.lookahead;
+
+    pendingTimeRegulations.remove(federateProxy.getFederateHandle());
 
-        timeRegulatingFederate.galtUpdated(newLocalGALT);
+    LogicalTime federateTime;
+    if (pendingTimeRegulation.federateTime.compareTo(pendingTimeRegulation.maxLITS) >= 0 ||
+        pendingTimeRegulation.federateTime.add(lookahead).compareTo(pendingTimeRegulation.maxLITS) >= 0)
+    {
+      federateTime = pendingTimeRegulation.federateTime;
+    }
+    else
+    {
+      federateTime = pendingTimeRegulation.maxLITS.subtract(lookahead);
+    }
+
+    timeRegulatingFederates.add(federateProxy.getFederateHandle());
+
+    federateProxy.enableTimeRegulation(lookahead, federateTime);
+
+    distributeLOTS(federateProxy.getFederateHandle(), federateTime.add(lookahead));
+  }
+
+  /**
+   * Stops waiting on the LITS of a federate that is no longer time constrained.
+   */
+  private void awaitingFederateRemoved(FederateHandle federateHandle)
+    throws IllegalTimeArithmetic, InvalidLogicalTimeInterval
+  {
+    Collection<PendingTimeRegulation> enabledTimeRegulations = new ArrayList<>();
+    for (PendingTimeRegulation pendingTimeRegulation : pendingTimeRegulations.values())
+    {
+      if (pendingTimeRegulation.awaitingFederateHandles.remove(federateHandle) &&
+          pendingTimeRegulation.awaitingFederateHandles.isEmpty())
+      {
+        enabledTimeRegulations.add(pendingTimeRegulation);
       }
+    }
+
+    for (PendingTimeRegulation pendingTimeRegulation : enabledTimeRegulations)
+    {
+      distributedTimeRegulationEnabled(pendingTimeRegulation);
+    }
+  }
 
-      // notify the non time regulating federates that GALT has advanced
+  /**
+   * Records the LOTS of a time regulating federate and relays it to every other time constrained federate.
+   *
+   * @param lots the LOTS, or {@code null} if the federate is no longer time regulating
+   */
+  private void distributeLOTS(FederateHandle federateHandle, LogicalTime lots)
+  {
+    synchronized (timeRegulatingFederateLOTS)
+    {
+      if (lots == null)
+      {
+        timeRegulatingFederateLOTS.remove(federateHandle);
+      }
+      else
+      {
+        timeRegulatingFederateLOTS.put(federateHandle, lots);
+      }
+
+      distributedGALTUpdated();
+    }
+
+    LOTSUpdated lotsUpdated = new LOTSUpdated(federateHandle, logicalTimeFactory, lots, false);
+    for (FederateHandle timeConstrainedFederateHandle : timeConstrainedFederates)
+    {
+      if (!timeConstrainedFederateHandle.equals(federateHandle))
+      {
+        federationExecution.getFederate(timeConstrainedFederateHandle).getFederateChannel().write(lotsUpdated);
+      }
+    }
+  }
+
+  /**
+   * Tracks the federation-wide GALT under distributed time management, where it only drives the federation execution
+   * and the expiry of retractable messages.
+   */
+  private void distributedGALTUpdated()
+  {
+    assert Thread.holdsLock(timeRegulatingFederateLOTS);
+
+    LogicalTime newGALT = timeRegulatingFederateLOTS.peekValue();
+    if (newGALT == null)
+    {
+      if (galt != null)
+      {
+        galt = null;
+
+        logger.debug(LogMessages.GALT_UNDEFINED);
+
+        federationExecution.galtUndefined();
+      }
+    }
+    else if (!newGALT.equals(galt))
+    {
+      logger.debug(LogMessages.GALT_UPDATED, galt, newGALT);
+
+      galt = newGALT;
+
+      federationExecution.galtUpdated(galt);
+
+      for (FederateProxy federateProxy : federationExecution.getFederates().values())
+      {
+        federateProxy.expireRetractables(galt);
+      }
+    }
+  }
+
+  /**
+   * Notifies the time regulating federates whose GALT, the least LOTS of all the other time regulating federates, may
+   * have changed. While the least LOTS stays the same only the federates holding it, before and after, see another
+   * GALT, the others only need to be told when it moves.
+   *
+   * @param oldLeastLOTSFederateHandle the federate that held the least LOTS before
+   * @param oldLeastLOTS the least LOTS before, or {@code null} if it is not known
+   */
+  private void timeRegulatingFederatesGALTUpdated(FederateHandle oldLeastLOTSFederateHandle, LogicalTime oldLeastLOTS)
+  {
+    assert timeRegulatingFederates.size() > 1;
+
+    FederateHandle leastLOTSFederateHandle = timeRegulatingFederateLOTS.peekKey();
+
+    if (oldLeastLOTS != null && oldLeastLOTS.equals(timeRegulatingFederateLOTS.peekValue()))
+    {
+      if (timeRegulatingFederateLOTS.containsKey(oldLeastLOTSFederateHandle))
+      {
+        timeRegulatingFederateGALTUpdated(oldLeastLOTSFederateHandle);
+      }
+
+      if (!leastLOTSFederateHandle.equals(oldLeastLOTSFederateHandle))
+      {
+        timeRegulatingFederateGALTUpdated(leastLOTSFederateHandle);
+      }
+
+      // a federate awaiting a next message request grant may be granted on its LITS
       //
-      for (FederateProxy f : federationExecution.getFederates().values())
+      for (FederateProxy nextMessageRequestingFederate : nextMessageRequestingFederates)
       {
-        if (!f.isTimeRegulationEnabled())
+        if (timeRegulatingFederateLOTS.containsKey(nextMessageRequestingFederate.getFederateHandle()))
         {
-          f.galtUpdated(galt);
+          timeRegulatingFederateGALTUpdated(nextMessageRequestingFederate.getFederateHandle());
         }
       }
     }
+    else
+    {
+      for (FederateHandle timeRegulatingFederateHandle : timeRegulatingFederates)
+      {
+        timeRegulatingFederateGALTUpdated(timeRegulatingFederateHandle);
+      }
+    }
+  }
+
+  private void timeRegulatingFederateGALTUpdated(FederateHandle timeRegulatingFederateHandle)
+  {
+    federationExecution.getFederate(timeRegulatingFederateHandle).galtUpdated(
+      timeRegulatingFederateLOTS.peekValueExcluding(timeRegulatingFederateHandle));
+  }
+
+  /**
+   * Notifies the non time regulating federates awaiting a next message request grant of the federation-wide GALT when
+   * it did not change, their LITS may have.
+   */
+  private void nextMessageRequestingFederatesGALTUpdated()
+  {
+    for (FederateProxy nextMessageRequestingFederate : nextMessageRequestingFederates)
+    {
+      if (!nextMessageRequestingFederate.isTimeRegulationEnabled())
+      {
+        nextMessageRequestingFederate.galtUpdated(galt);
+      }
+    }
+  }
+
+  private boolean isAwaitingNextMessageRequestTimeAdvanceGrant(FederateProxy federateProxy)
+  {
+    return federateProxy.isTimeConstrainedEnabled() && federateProxy.getAdvanceRequestTime() != null &&
+           (federateProxy.getAdvanceRequestType() == TimeAdvanceType.NEXT_MESSAGE_REQUEST ||
+            federateProxy.getAdvanceRequestType() == TimeAdvanceType.NEXT_MESSAGE_REQUEST_AVAILABLE);
+  }
+
+  private void lotsUpdated(FederateProxy federateProxy)
+  {
+    getTimeRegulatingFederateLOTS().put(federateProxy.getFederateHandle(), federateProxy.getLOTS());
+  }
+
+  private IndexedMinHeap<FederateHandle, LogicalTime> getTimeRegulatingFederateLOTS()
+  {
+    if (rebuildTimeRegulatingFederateLOTS)
+    {
+      rebuildTimeRegulatingFederateLOTS = false;
+
+      for (FederateHandle timeRegulatingFederateHandle : timeRegulatingFederates)
+      {
+        timeRegulatingFederateLOTS.put(
+          timeRegulatingFederateHandle, federationExecution.getFederate(timeRegulatingFederateHandle).getLOTS());
+      }
+
+      for (FederateProxy federateProxy : federationExecution.getFederates().values())
+      {
+        if (isAwaitingNextMessageRequestTimeAdvanceGrant(federateProxy))
+        {
+          nextMessageRequestingFederates.add(federateProxy);
+        }
+      }
+    }
+    return timeRegulatingFederateLOTS;
   }
 
   @SuppressWarnings("unchecked")
@@ -706,4 +1276,25 @@ public class FederationExecutionTimeManager
   {
     return lhs.compareTo(rhs) >= 0 ? lhs : rhs;
   }
+
+  private class PendingTimeRegulation
+  {
+    private final FederateProxy federateProxy;
+    private final LogicalTimeInterval lookahead;
+    private final LogicalTime federateTime;
+
+    /**
+     * The time constrained federates that have yet to answer with their LITS.
+     */
+    private final Set<FederateHandle> awaitingFederateHandles = new HashSet<>();
+
+    private LogicalTime maxLITS = initialTime;
+
+    private PendingTimeRegulation(FederateProxy federateProxy, LogicalTimeInterval lookahead, LogicalTime federateTime)
+    {
+      this.federateProxy = federateProxy;
+      this.lookahead = lookahead;
+      this.federateTime = federateTime;
+    }
+  }
 }
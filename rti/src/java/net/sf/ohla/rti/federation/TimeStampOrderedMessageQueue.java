@@ -38,6 +38,8 @@ public class TimeStampOrderedMessageQueue
 
   public TimeStampOrderedMessageQueue(FederationExecution federationExecution)
   {
+    super(federationExecution.getTimeManager().getLogicalTimeType());
+
     this.federationExecution = federationExecution;
   }
 
@@ -49,8 +51,6 @@ public class TimeStampOrderedMessageQueue
   public synchronized void saveState(CodedOutputStream out)
     throws IOException
   {
-    clearRetracted();
-
     TimeStampOrderedMessageQueueState.Builder timeStampOrderedMessageQueueState =
       TimeStampOrderedMessageQueueState.newBuilder();
 
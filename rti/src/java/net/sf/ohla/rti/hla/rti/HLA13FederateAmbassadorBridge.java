@@ -16,11 +16,14 @@
 
 package net.sf.ohla.rti.hla.rti;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import net.sf.ohla.rti.fed.FED;
 import net.sf.ohla.rti.fed.RoutingSpace;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+import net.sf.ohla.rti.util.ProtoValueMap;
 
 import hla.rti.AttributeNotKnown;
 import hla.rti.CouldNotRestore;
@@ -1389,8 +1392,21 @@ public class HLA13FederateAmbassadorBridge
     }
   }
 
+  @SuppressWarnings("unchecked")
   private HLA13ReceivedInteraction createReceivedInteraction(
     ParameterHandleValueMap parameterValues, OrderType orderType, TransportationTypeHandle transportationTypeHandle)
+  {
+    List<MessageProtos.ParameterValue> parameterValueProtos = parameterValues instanceof ProtoValueMap ?
+      ((ProtoValueMap<MessageProtos.ParameterValue>) parameterValues).getValueProtos() : null;
+
+    return parameterValueProtos == null ?
+      createReceivedInteraction(parameterValues, orderType.ordinal(), rtiAmbassador.convert(transportationTypeHandle)) :
+      new HLA13ReceivedInteraction(
+        parameterValueProtos, orderType.ordinal(), rtiAmbassador.convert(transportationTypeHandle));
+  }
+
+  private HLA13ReceivedInteraction createReceivedInteraction(
+    ParameterHandleValueMap parameterValues, int orderType, int transportationType)
   {
     int[] handles = new int[parameterValues.size()];
     byte[][] values = new byte[handles.length][];
@@ -1402,8 +1418,7 @@ public class HLA13FederateAmbassadorBridge
       values[index++] = entry.getValue();
     }
 
-    return new HLA13ReceivedInteraction(
-      handles, values, orderType.ordinal(), rtiAmbassador.convert(transportationTypeHandle));
+    return new HLA13ReceivedInteraction(handles, values, orderType, transportationType);
   }
 
   private HLA13ReceivedInteraction createReceivedInteraction(
@@ -1438,8 +1453,21 @@ public class HLA13FederateAmbassadorBridge
       handles, values, orderType.ordinal(), rtiAmbassador.convert(transportationTypeHandle), region);
   }
 
+  @SuppressWarnings("unchecked")
   private HLA13ReflectedAttributes createReflectedAttributes(
     AttributeHandleValueMap attributeValues, OrderType orderType, TransportationTypeHandle transportationTypeHandle)
+  {
+    List<MessageProtos.AttributeValue> attributeValueProtos = attributeValues instanceof ProtoValueMap ?
+      ((ProtoValueMap<MessageProtos.AttributeValue>) attributeValues).getValueProtos() : null;
+
+    return attributeValueProtos == null ?
+      createReflectedAttributes(attributeValues, orderType.ordinal(), rtiAmbassador.convert(transportationTypeHandle)) :
+      new HLA13ReflectedAttributes(
+        attributeValueProtos, orderType.ordinal(), rtiAmbassador.convert(transportationTypeHandle));
+  }
+
+  private HLA13ReflectedAttributes createReflectedAttributes(
+    AttributeHandleValueMap attributeValues, int orderType, int transportationType)
   {
     int[] handles = new int[attributeValues.size()];
     byte[][] values = new byte[handles.length][];
@@ -1451,8 +1479,7 @@ public class HLA13FederateAmbassadorBridge
       values[index++] = entry.getValue();
     }
 
-    return new HLA13ReflectedAttributes(
-      handles, values, orderType.ordinal(), rtiAmbassador.convert(transportationTypeHandle));
+    return new HLA13ReflectedAttributes(handles, values, orderType, transportationType);
   }
 
   private HLA13ReflectedAttributes createReflectedAttributes(
@@ -16,6 +16,10 @@
 
 package net.sf.ohla.rti.hla.rti;
 
+import java.util.List;
+
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+
 import hla.rti.ArrayIndexOutOfBounds;
 import hla.rti.ReceivedInteraction;
 
@@ -25,6 +29,12 @@ public class HLA13ReceivedInteraction
   private final int[] parameterHandles;
   private final byte[][] parameterValues;
 
+  /**
+   * The parameter values of the received message when this is a view over them, values are copied out of the message
+   * into {@link #parameterValues} the first time they are asked for.
+   */
+  private final List<MessageProtos.ParameterValue> parameterValueProtos;
+
   private final int orderType;
   private final int transportationType;
 
@@ -44,11 +54,25 @@ public class HLA13ReceivedInteraction
     this.orderType = orderType;
     this.transportationType = transportationType;
     this.region = region;
+
+    parameterValueProtos = null;
+  }
+
+  public HLA13ReceivedInteraction(
+    List<MessageProtos.ParameterValue> parameterValueProtos, int orderType, int transportationType)
+  {
+    this.parameterValueProtos = parameterValueProtos;
+    this.orderType = orderType;
+    this.transportationType = transportationType;
+
+    parameterHandles = null;
+    parameterValues = new byte[parameterValueProtos.size()][];
+    region = null;
   }
 
   public int size()
   {
-    return parameterHandles.length;
+    return parameterValues.length;
   }
 
   public byte[] getValue(int index)
@@ -68,7 +92,12 @@ public class HLA13ReceivedInteraction
   {
     checkRange(index);
 
-    return parameterValues[index];
+    byte[] parameterValue = parameterValues[index];
+    if (parameterValue == null)
+    {
+      parameterValues[index] = parameterValue = parameterValueProtos.get(index).getValue().toByteArray();
+    }
+    return parameterValue;
   }
 
   public int getParameterHandle(int index)
@@ -76,7 +105,8 @@ public class HLA13ReceivedInteraction
   {
     checkRange(index);
 
-    return parameterHandles[index];
+    return parameterHandles == null ?
+      parameterValueProtos.get(index).getParameterHandle() : parameterHandles[index];
   }
 
   public int getOrderType()
@@ -97,7 +127,7 @@ public class HLA13ReceivedInteraction
   private void checkRange(int index)
     throws ArrayIndexOutOfBounds
   {
-    if (index < 0 || index >= parameterHandles.length)
+    if (index < 0 || index >= parameterValues.length)
     {
       throw new ArrayIndexOutOfBounds(Integer.toString(index));
     }
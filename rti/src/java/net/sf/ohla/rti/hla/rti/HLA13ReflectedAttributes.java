@@ -16,6 +16,10 @@
 
 package net.sf.ohla.rti.hla.rti;
 
+import java.util.List;
+
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+
 import hla.rti.ArrayIndexOutOfBounds;
 import hla.rti.ReflectedAttributes;
 import hla.rti.Region;
@@ -26,6 +30,12 @@ public class HLA13ReflectedAttributes
   private final int[] attributeHandles;
   private final byte[][] attributeValues;
 
+  /**
+   * The attribute values of the received message when this is a view over them, values are copied out of the message
+   * into {@link #attributeValues} the first time they are asked for.
+   */
+  private final List<MessageProtos.AttributeValue> attributeValueProtos;
+
   private final int orderType;
   private final int transportationType;
 
@@ -45,6 +55,20 @@ public class HLA13ReflectedAttributes
     this.orderType = orderType;
     this.transportationType = transportationType;
     this.regions = regions;
+
+    attributeValueProtos = null;
+  }
+
+  public HLA13ReflectedAttributes(
+    List<MessageProtos.AttributeValue> attributeValueProtos, int orderType, int transportationType)
+  {
+    this.attributeValueProtos = attributeValueProtos;
+    this.orderType = orderType;
+    this.transportationType = transportationType;
+
+    attributeHandles = null;
+    attributeValues = new byte[attributeValueProtos.size()][];
+    regions = null;
   }
 
   public HLA13Region[] getRegions()
@@ -69,7 +93,12 @@ public class HLA13ReflectedAttributes
   {
     checkRange(index);
 
-    return attributeValues[index];
+    byte[] attributeValue = attributeValues[index];
+    if (attributeValue == null)
+    {
+      attributeValues[index] = attributeValue = attributeValueProtos.get(index).getValue().toByteArray();
+    }
+    return attributeValue;
   }
 
   public int getAttributeHandle(int index)
@@ -77,7 +106,8 @@ public class HLA13ReflectedAttributes
   {
     checkRange(index);
 
-    return attributeHandles[index];
+    return attributeHandles == null ?
+      attributeValueProtos.get(index).getAttributeHandle() : attributeHandles[index];
   }
 
   public Region getRegion(int index)
@@ -109,13 +139,13 @@ public class HLA13ReflectedAttributes
 
   public int size()
   {
-    return attributeHandles.length;
+    return attributeValues.length;
   }
 
   private void checkRange(int index)
     throws ArrayIndexOutOfBounds
   {
-    if (index < 0 || index >= attributeHandles.length)
+    if (index < 0 || index >= attributeValues.length)
     {
       throw new ArrayIndexOutOfBounds(Integer.toString(index));
     }
@@ -18,9 +18,15 @@ package net.sf.ohla.rti.hla.rti;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandle;
 import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandleValueMap;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+import net.sf.ohla.rti.util.AttributeHandles;
+import net.sf.ohla.rti.util.ProtoValueMap;
+
+import com.google.protobuf.ByteString;
 
 import hla.rti.ArrayIndexOutOfBounds;
 import hla.rti.SuppliedAttributes;
@@ -29,7 +35,7 @@ import hla.rti1516e.AttributeHandle;
 
 public class HLA13SuppliedAttributes
   extends IEEE1516eAttributeHandleValueMap
-  implements SuppliedAttributes
+  implements SuppliedAttributes, ProtoValueMap<MessageProtos.AttributeValue>
 {
   private final List<AttributeHandle> attributeHandles;
 
@@ -96,7 +102,11 @@ public class HLA13SuppliedAttributes
 
   public void remove(int attributeHandle)
   {
-    remove(attributeHandles.remove(attributeHandle));
+    AttributeHandle ohlaAttributeHandle = new IEEE1516eAttributeHandle(attributeHandle);
+    if (remove(ohlaAttributeHandle) != null)
+    {
+      attributeHandles.remove(ohlaAttributeHandle);
+    }
   }
 
   public void removeAt(int index)
@@ -117,4 +127,19 @@ public class HLA13SuppliedAttributes
     clear();
     attributeHandles.clear();
   }
+
+  /**
+   * Builds the attribute values from the entries of the map, which also holds the values put through the {@link Map}
+   * methods rather than {@link #add}.
+   */
+  public List<MessageProtos.AttributeValue> getValueProtos()
+  {
+    List<MessageProtos.AttributeValue> valueProtos = new ArrayList<MessageProtos.AttributeValue>(size());
+    for (Map.Entry<AttributeHandle, byte[]> entry : entrySet())
+    {
+      valueProtos.add(MessageProtos.AttributeValue.newBuilder().setAttributeHandle(
+        AttributeHandles.convert(entry.getKey())).setValue(ByteString.copyFrom(entry.getValue())).build());
+    }
+    return valueProtos;
+  }
 }
@@ -18,9 +18,15 @@ package net.sf.ohla.rti.hla.rti;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import net.sf.ohla.rti.hla.rti1516e.IEEE1516eParameterHandle;
 import net.sf.ohla.rti.hla.rti1516e.IEEE1516eParameterHandleValueMap;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+import net.sf.ohla.rti.util.ParameterHandles;
+import net.sf.ohla.rti.util.ProtoValueMap;
+
+import com.google.protobuf.ByteString;
 
 import hla.rti.ArrayIndexOutOfBounds;
 import hla.rti.SuppliedParameters;
@@ -29,7 +35,7 @@ import hla.rti1516e.ParameterHandle;
 
 public class HLA13SuppliedParameters
   extends IEEE1516eParameterHandleValueMap
-  implements SuppliedParameters
+  implements SuppliedParameters, ProtoValueMap<MessageProtos.ParameterValue>
 {
   private final List<ParameterHandle> parameterHandles;
 
@@ -96,7 +102,11 @@ public class HLA13SuppliedParameters
 
   public void remove(int parameterHandle)
   {
-    remove(parameterHandles.remove(parameterHandle));
+    ParameterHandle ohlaParameterHandle = new IEEE1516eParameterHandle(parameterHandle);
+    if (remove(ohlaParameterHandle) != null)
+    {
+      parameterHandles.remove(ohlaParameterHandle);
+    }
   }
 
   public void removeAt(int index)
@@ -117,4 +127,19 @@ public class HLA13SuppliedParameters
     clear();
     parameterHandles.clear();
   }
+
+  /**
+   * Builds the parameter values from the entries of the map, which also holds the values put through the {@link Map}
+   * methods rather than {@link #add}.
+   */
+  public List<MessageProtos.ParameterValue> getValueProtos()
+  {
+    List<MessageProtos.ParameterValue> valueProtos = new ArrayList<MessageProtos.ParameterValue>(size());
+    for (Map.Entry<ParameterHandle, byte[]> entry : entrySet())
+    {
+      valueProtos.add(MessageProtos.ParameterValue.newBuilder().setParameterHandle(
+        ParameterHandles.convert(entry.getKey())).setValue(ByteString.copyFrom(entry.getValue())).build());
+    }
+    return valueProtos;
+  }
 }
@@ -16,14 +16,15 @@
 
 package net.sf.ohla.rti.hla.rti1516e;
 
-import java.util.HashSet;
 import java.util.Set;
 
+import net.sf.ohla.rti.util.HandleSet;
+
 import hla.rti1516e.AttributeHandle;
 import hla.rti1516e.AttributeHandleSet;
 
 public class IEEE1516eAttributeHandleSet
-  extends HashSet<AttributeHandle>
+  extends HandleSet<AttributeHandle>
   implements AttributeHandleSet
 {
   public IEEE1516eAttributeHandleSet()
@@ -37,7 +38,9 @@ public class IEEE1516eAttributeHandleSet
 
   public IEEE1516eAttributeHandleSet(Set<AttributeHandle> attributeHandles)
   {
-    super(attributeHandles);
+    super(attributeHandles.size());
+
+    addAll(attributeHandles);
   }
 
   public IEEE1516eAttributeHandleSet(IEEE1516eAttributeHandleSet attributeHandles)
@@ -50,4 +53,16 @@ public class IEEE1516eAttributeHandleSet
   {
     return new IEEE1516eAttributeHandleSet(this);
   }
+
+  @Override
+  protected boolean isHandle(Object o)
+  {
+    return o instanceof IEEE1516eAttributeHandle;
+  }
+
+  @Override
+  protected long getKey(Object attributeHandle)
+  {
+    return ((IEEE1516eAttributeHandle) attributeHandle).handle;
+  }
 }
@@ -17,16 +17,17 @@
 package net.sf.ohla.rti.hla.rti1516e;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
+import net.sf.ohla.rti.util.HandleValueMap;
+
 import hla.rti1516e.AttributeHandle;
 import hla.rti1516e.AttributeHandleValueMap;
 import hla.rti1516e.encoding.ByteWrapper;
 
 public class IEEE1516eAttributeHandleValueMap
-  extends HashMap<AttributeHandle, byte[]>
+  extends HandleValueMap<AttributeHandle>
   implements AttributeHandleValueMap
 {
   public IEEE1516eAttributeHandleValueMap()
@@ -40,7 +41,9 @@ public class IEEE1516eAttributeHandleValueMap
 
   public IEEE1516eAttributeHandleValueMap(Map<AttributeHandle, byte[]> clonee)
   {
-    super(clonee);
+    super(clonee.size());
+
+    putAll(clonee);
   }
 
   public ByteWrapper getValueReference(AttributeHandle attributeHandle)
@@ -69,6 +72,32 @@ public class IEEE1516eAttributeHandleValueMap
     return this == rhs || (rhs instanceof AttributeHandleValueMap && equals((AttributeHandleValueMap) rhs));
   }
 
+  /**
+   * Hashes the values by content, so equal maps have equal hash codes.
+   */
+  @Override
+  public int hashCode()
+  {
+    int hashCode = 0;
+    for (Map.Entry<AttributeHandle, byte[]> entry : entrySet())
+    {
+      hashCode += entry.getKey().hashCode() ^ Arrays.hashCode(entry.getValue());
+    }
+    return hashCode;
+  }
+
+  @Override
+  protected boolean isHandle(Object o)
+  {
+    return o instanceof IEEE1516eAttributeHandle;
+  }
+
+  @Override
+  protected long getKey(Object attributeHandle)
+  {
+    return ((IEEE1516eAttributeHandle) attributeHandle).handle;
+  }
+
   private boolean equals(AttributeHandleValueMap rhs)
   {
     boolean equals = size() == rhs.size();
@@ -17,13 +17,14 @@
 package net.sf.ohla.rti.hla.rti1516e;
 
 import java.util.Collection;
-import java.util.HashSet;
+
+import net.sf.ohla.rti.util.HandleSet;
 
 import hla.rti1516e.FederateHandle;
 import hla.rti1516e.FederateHandleSet;
 
 public class IEEE1516eFederateHandleSet
-  extends HashSet<FederateHandle>
+  extends HandleSet<FederateHandle>
   implements FederateHandleSet
 {
   public static final FederateHandleSet EMPTY = new IEEE1516eFederateHandleSet();
@@ -39,11 +40,25 @@ public class IEEE1516eFederateHandleSet
 
   public IEEE1516eFederateHandleSet(Collection<? extends FederateHandle> c)
   {
-    super(c);
+    super(c.size());
+
+    addAll(c);
   }
 
   public IEEE1516eFederateHandleSet(IEEE1516eFederateHandleSet federateHandleSet)
   {
     super(federateHandleSet);
   }
+
+  @Override
+  protected boolean isHandle(Object o)
+  {
+    return o instanceof IEEE1516eFederateHandle;
+  }
+
+  @Override
+  protected long getKey(Object federateHandle)
+  {
+    return ((IEEE1516eFederateHandle) federateHandle).handle;
+  }
 }
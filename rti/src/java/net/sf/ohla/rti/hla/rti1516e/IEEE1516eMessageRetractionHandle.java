@@ -45,7 +45,7 @@ public class IEEE1516eMessageRetractionHandle
   @Override
   public int hashCode()
   {
-    return ((int) messageRetractionHandle) & (((IEEE1516eFederateHandle) federateHandle).getHandle() << 24);
+    return ((int) messageRetractionHandle) ^ (((IEEE1516eFederateHandle) federateHandle).getHandle() << 24);
   }
 
   @Override
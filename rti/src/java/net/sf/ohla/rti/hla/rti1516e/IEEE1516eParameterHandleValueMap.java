@@ -17,16 +17,17 @@
 package net.sf.ohla.rti.hla.rti1516e;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
+import net.sf.ohla.rti.util.HandleValueMap;
+
 import hla.rti1516e.ParameterHandle;
 import hla.rti1516e.ParameterHandleValueMap;
 import hla.rti1516e.encoding.ByteWrapper;
 
 public class IEEE1516eParameterHandleValueMap
-  extends HashMap<ParameterHandle, byte[]>
+  extends HandleValueMap<ParameterHandle>
   implements ParameterHandleValueMap
 {
   public IEEE1516eParameterHandleValueMap()
@@ -40,7 +41,9 @@ public class IEEE1516eParameterHandleValueMap
 
   public IEEE1516eParameterHandleValueMap(Map<ParameterHandle, byte[]> clonee)
   {
-    super(clonee);
+    super(clonee.size());
+
+    putAll(clonee);
   }
 
   public ByteWrapper getValueReference(ParameterHandle parameterHandle)
@@ -69,6 +72,32 @@ public class IEEE1516eParameterHandleValueMap
     return this == rhs || (rhs instanceof ParameterHandleValueMap && equals((ParameterHandleValueMap) rhs));
   }
 
+  /**
+   * Hashes the values by content, so equal maps have equal hash codes.
+   */
+  @Override
+  public int hashCode()
+  {
+    int hashCode = 0;
+    for (Map.Entry<ParameterHandle, byte[]> entry : entrySet())
+    {
+      hashCode += entry.getKey().hashCode() ^ Arrays.hashCode(entry.getValue());
+    }
+    return hashCode;
+  }
+
+  @Override
+  protected boolean isHandle(Object o)
+  {
+    return o instanceof IEEE1516eParameterHandle;
+  }
+
+  @Override
+  protected long getKey(Object parameterHandle)
+  {
+    return ((IEEE1516eParameterHandle) parameterHandle).handle;
+  }
+
   private boolean equals(ParameterHandleValueMap rhs)
   {
     boolean equals = size() == rhs.size();
@@ -19,10 +19,17 @@ package net.sf.ohla.rti.hla.rti1516e;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketAddress;
+import java.net.SocketException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Executor;
@@ -33,6 +40,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import net.sf.ohla.rti.RTI;
 import net.sf.ohla.rti.fdd.FDD;
 import net.sf.ohla.rti.federate.CallbackManager;
+import net.sf.ohla.rti.federate.CallbackMetrics;
 import net.sf.ohla.rti.federate.Federate;
 import net.sf.ohla.rti.federate.FederateChannelPipelineFactory;
 import net.sf.ohla.rti.hla.rti.HLA13RTIambassador;
@@ -40,15 +48,23 @@ import net.sf.ohla.rti.i18n.ExceptionMessages;
 import net.sf.ohla.rti.i18n.I18n;
 import net.sf.ohla.rti.i18n.I18nLogger;
 import net.sf.ohla.rti.i18n.LogMessages;
+import net.sf.ohla.rti.messages.CoalescingWriteHandler;
 import net.sf.ohla.rti.messages.CreateFederationExecution;
 import net.sf.ohla.rti.messages.CreateFederationExecutionResponse;
+import net.sf.ohla.rti.messages.DatagramTransport;
 import net.sf.ohla.rti.messages.DestroyFederationExecution;
 import net.sf.ohla.rti.messages.DestroyFederationExecutionResponse;
 import net.sf.ohla.rti.messages.ListFederationExecutions;
+import net.sf.ohla.rti.messages.OpenSharedMemory;
+import net.sf.ohla.rti.messages.SharedMemoryChannelHandler;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
 
 import org.jboss.netty.bootstrap.ClientBootstrap;
 import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelException;
 import org.jboss.netty.channel.ChannelFuture;
+import org.jboss.netty.channel.ChannelPipeline;
+import org.jboss.netty.channel.local.DefaultLocalClientChannelFactory;
 import org.jboss.netty.channel.socket.nio.NioClientSocketChannelFactory;
 
 import hla.rti1516e.AttributeHandle;
@@ -147,6 +163,7 @@ import hla.rti1516e.exceptions.InvalidFederateHandle;
 import hla.rti1516e.exceptions.InvalidInteractionClassHandle;
 import hla.rti1516e.exceptions.InvalidLocalSettingsDesignator;
 import hla.rti1516e.exceptions.InvalidLogicalTime;
+import hla.rti1516e.exceptions.InvalidLogicalTimeInterval;
 import hla.rti1516e.exceptions.InvalidLookahead;
 import hla.rti1516e.exceptions.InvalidMessageRetractionHandle;
 import hla.rti1516e.exceptions.InvalidObjectClassHandle;
@@ -201,6 +218,31 @@ public class IEEE1516eRTIambassador
 
   public static final String HLA_STANDARD_MIM = "HLAstandardMIM.xml";
 
+  /**
+   * The local settings value that connects through shared memory, the RTI must be on the same host.
+   */
+  public static final String SHARED_MEMORY_TRANSPORT = "sharedMemory";
+
+  public static final String TCP_TRANSPORT = "tcp";
+
+  /**
+   * The local settings value that connects to the RTI embedded in the same JVM (see {@link RTI#getEmbeddedRTI()}),
+   * messages are passed to the RTI without being encoded.
+   */
+  public static final String EMBEDDED_TRANSPORT = "embedded";
+
+  /**
+   * The transport used unless the local settings name one, defaults to {@link #TCP_TRANSPORT}.
+   */
+  public static final String OHLA_RTI_TRANSPORT_PROPERTY = "ohla.rti.transport";
+
+  /**
+   * Where shared memory is created unless the local settings say otherwise, {@code java.io.tmpdir} is used if this
+   * does not exist. The RTI only opens shared memory in the directory named by its
+   * {@value RTI#OHLA_RTI_SHARED_MEMORY_DIRECTORY_PROPERTY} system property, which defaults to the same.
+   */
+  public static final String DEFAULT_SHARED_MEMORY_DIRECTORY = SharedMemoryChannelHandler.DEFAULT_DIRECTORY;
+
   /**
    * Allows concurrent access to all methods, but ensures that connect/disconnect are exclusive to all others.
    */
@@ -210,6 +252,11 @@ public class IEEE1516eRTIambassador
 
   private Channel rtiChannel;
 
+  /**
+   * Receives {@code HLAbestEffort} messages as datagrams, {@code null} unless enabled by the local settings.
+   */
+  private DatagramTransport datagramTransport;
+
   private FederateAmbassador federateAmbassador;
 
   /**
@@ -252,6 +299,15 @@ public class IEEE1516eRTIambassador
     return federate;
   }
 
+  /**
+   * Returns the {@link DatagramTransport} {@code HLAbestEffort} messages are sent and received on, or {@code null} if
+   * they travel over the connection to the RTI.
+   */
+  public DatagramTransport getDatagramTransport()
+  {
+    return datagramTransport;
+  }
+
   public void createFederationExecution(String federationExecutionName, FDD fdd)
     throws FederationExecutionAlreadyExists, NotConnected, RTIinternalError
   {
@@ -379,6 +435,15 @@ public class IEEE1516eRTIambassador
     int port;
     long connectTimeoutMillis = 1000L;
 
+    String transport = System.getProperty(OHLA_RTI_TRANSPORT_PROPERTY, TCP_TRANSPORT);
+
+    String sharedMemoryDirectory = null;
+    int sharedMemorySize = SharedMemoryChannelHandler.DEFAULT_CAPACITY;
+
+    boolean datagram = false;
+    String datagramInterface = null;
+    int maxDatagramSize = DatagramTransport.DEFAULT_MAX_DATAGRAM_SIZE;
+
     if (localSettingsDesignator == null || localSettingsDesignator.isEmpty())
     {
       host = "localhost";
@@ -400,8 +465,40 @@ public class IEEE1516eRTIambassador
         {
           properties.load(inputStream);
 
-          host = properties.getProperty("host");
-          port = Integer.parseInt(properties.getProperty("port"));
+          transport = properties.getProperty("transport", transport);
+
+          if (EMBEDDED_TRANSPORT.equalsIgnoreCase(transport))
+          {
+            // the embedded RTI has no address
+
+            host = null;
+            port = 0;
+          }
+          else
+          {
+            host = properties.getProperty("host");
+            port = Integer.parseInt(properties.getProperty("port"));
+          }
+
+          sharedMemoryDirectory = properties.getProperty("sharedMemoryDirectory");
+          if (properties.getProperty("sharedMemorySize") != null)
+          {
+            sharedMemorySize = Integer.parseInt(properties.getProperty("sharedMemorySize"));
+            if (sharedMemorySize < SharedMemoryChannelHandler.MIN_CAPACITY ||
+                sharedMemorySize > SharedMemoryChannelHandler.MAX_CAPACITY)
+            {
+              throw new InvalidLocalSettingsDesignator(I18n.getMessage(
+                ExceptionMessages.INVALID_SHARED_MEMORY_CAPACITY, sharedMemorySize,
+                SharedMemoryChannelHandler.MIN_CAPACITY, SharedMemoryChannelHandler.MAX_CAPACITY));
+            }
+          }
+
+          datagram = Boolean.parseBoolean(properties.getProperty("datagram"));
+          datagramInterface = properties.getProperty("datagramInterface");
+          if (properties.getProperty("datagramMaxSize") != null)
+          {
+            maxDatagramSize = Integer.parseInt(properties.getProperty("datagramMaxSize"));
+          }
         }
         catch (NumberFormatException nfe)
         {
@@ -414,6 +511,13 @@ public class IEEE1516eRTIambassador
       }
     }
 
+    boolean embedded = EMBEDDED_TRANSPORT.equalsIgnoreCase(transport);
+    boolean sharedMemory = SHARED_MEMORY_TRANSPORT.equalsIgnoreCase(transport);
+    if (!embedded && !sharedMemory && !TCP_TRANSPORT.equalsIgnoreCase(transport))
+    {
+      throw new InvalidLocalSettingsDesignator(localSettingsDesignator == null ? transport : localSettingsDesignator);
+    }
+
     checkIfCallNotAllowedFromWithinCallback();
 
     connectLock.writeLock().lock();
@@ -423,15 +527,32 @@ public class IEEE1516eRTIambassador
       {
         Executor executor = Executors.newCachedThreadPool();
 
-        ClientBootstrap clientBootstrap = new ClientBootstrap(
-          new NioClientSocketChannelFactory(Executors.newCachedThreadPool(), Executors.newCachedThreadPool()));
+        ClientBootstrap clientBootstrap;
+        SocketAddress rtiAddress;
+        if (embedded)
+        {
+          RTI.getEmbeddedRTI();
 
-        clientBootstrap.setOption("connectTimeoutMillis", connectTimeoutMillis);
+          clientBootstrap = new ClientBootstrap(new DefaultLocalClientChannelFactory());
+          rtiAddress = RTI.EMBEDDED_ADDRESS;
+        }
+        else
+        {
+          clientBootstrap = new ClientBootstrap(
+            new NioClientSocketChannelFactory(Executors.newCachedThreadPool(), Executors.newCachedThreadPool()));
+          rtiAddress = new InetSocketAddress(host, port);
+
+          clientBootstrap.setOption("connectTimeoutMillis", connectTimeoutMillis);
+
+          // writes are already coalesced, do not let small messages wait on an acknowledgement
+          //
+          clientBootstrap.setOption("tcpNoDelay", true);
+        }
 
         CallbackManager callbackManager = new CallbackManager(federateAmbassador);
-        clientBootstrap.setPipelineFactory(new FederateChannelPipelineFactory(executor, callbackManager));
+        clientBootstrap.setPipelineFactory(new FederateChannelPipelineFactory(executor, callbackManager, embedded));
 
-        ChannelFuture future = clientBootstrap.connect(new InetSocketAddress(host, port)).awaitUninterruptibly();
+        ChannelFuture future = clientBootstrap.connect(rtiAddress).awaitUninterruptibly();
         if (future.isSuccess())
         {
           rtiChannel = future.getChannel();
@@ -439,6 +560,16 @@ public class IEEE1516eRTIambassador
           this.federateAmbassador = federateAmbassador;
           this.callbackManager = callbackManager;
 
+          if (sharedMemory)
+          {
+            openSharedMemory(sharedMemoryDirectory, sharedMemorySize);
+          }
+
+          if (datagram && !embedded)
+          {
+            datagramTransport = createDatagramTransport(datagramInterface, maxDatagramSize);
+          }
+
           Runtime.getRuntime().addShutdownHook(shutdownHook);
         }
         else
@@ -464,6 +595,96 @@ public class IEEE1516eRTIambassador
     connect(federateAmbassador, callbackModel, null);
   }
 
+  /**
+   * Moves the connection to the RTI onto shared memory, the connection stays on the socket if the RTI cannot open the
+   * shared memory, most likely because it is on another host.
+   */
+  private void openSharedMemory(String sharedMemoryDirectory, int sharedMemorySize)
+    throws RTIinternalError
+  {
+    Path directory;
+    if (sharedMemoryDirectory != null)
+    {
+      directory = Paths.get(sharedMemoryDirectory);
+    }
+    else
+    {
+      directory = SharedMemoryChannelHandler.getDefaultDirectory();
+    }
+
+    SharedMemoryChannelHandler sharedMemoryChannelHandler;
+    try
+    {
+      sharedMemoryChannelHandler = SharedMemoryChannelHandler.create(directory, sharedMemorySize);
+    }
+    catch (IOException ioe)
+    {
+      log.warn(LogMessages.UNABLE_TO_CREATE_SHARED_MEMORY, ioe, directory);
+
+      sharedMemoryChannelHandler = null;
+    }
+
+    if (sharedMemoryChannelHandler != null)
+    {
+      ChannelPipeline pipeline = rtiChannel.getPipeline();
+
+      // responses arrive through the shared memory as soon as the RTI has opened it
+      //
+      pipeline.addFirst(SharedMemoryChannelHandler.NAME, sharedMemoryChannelHandler);
+      try
+      {
+        OpenSharedMemory openSharedMemory = new OpenSharedMemory(
+          sharedMemoryChannelHandler.getPath().toString(), sharedMemoryChannelHandler.getToken());
+
+        rtiChannel.write(openSharedMemory);
+
+        if (openSharedMemory.getResponse().isSuccess())
+        {
+          sharedMemoryChannelHandler.startWriting();
+
+          pipeline.remove(CoalescingWriteHandler.NAME);
+        }
+        else
+        {
+          log.warn(LogMessages.UNABLE_TO_CREATE_SHARED_MEMORY, directory);
+
+          pipeline.remove(sharedMemoryChannelHandler);
+        }
+      }
+      finally
+      {
+        // both sides have mapped the file by now, or never will
+        //
+        sharedMemoryChannelHandler.getPath().toFile().delete();
+      }
+    }
+  }
+
+  private DatagramTransport createDatagramTransport(String datagramInterface, int maxDatagramSize)
+  {
+    DatagramTransport datagramTransport;
+
+    // receive datagrams on the same interface the RTI is reached through
+    //
+    InetSocketAddress localAddress = (InetSocketAddress) rtiChannel.getLocalAddress();
+    try
+    {
+      NetworkInterface networkInterface = datagramInterface == null ?
+        NetworkInterface.getByInetAddress(localAddress.getAddress()) : NetworkInterface.getByName(datagramInterface);
+
+      datagramTransport = new DatagramTransport(
+        new InetSocketAddress(localAddress.getAddress(), 0), networkInterface, maxDatagramSize,
+        EnumSet.of(MessageProtos.MessageType.REFLECT_ATTRIBUTE_VALUES, MessageProtos.MessageType.RECEIVE_INTERACTION));
+    }
+    catch (SocketException | ChannelException e)
+    {
+      log.warn(LogMessages.UNABLE_TO_BIND_DATAGRAM_TRANSPORT, e, localAddress);
+
+      datagramTransport = null;
+    }
+    return datagramTransport;
+  }
+
   public void disconnect()
     throws FederateIsExecutionMember, CallNotAllowedFromWithinCallback, RTIinternalError
   {
@@ -486,6 +707,12 @@ public class IEEE1516eRTIambassador
 
         closedChannel = rtiChannel;
 
+        if (datagramTransport != null)
+        {
+          datagramTransport.close();
+          datagramTransport = null;
+        }
+
         if (Thread.currentThread() != shutdownHook)
         {
           Runtime.getRuntime().removeShutdownHook(shutdownHook);
@@ -713,7 +940,7 @@ public class IEEE1516eRTIambassador
 
         federate = new Federate(
           federateName, federateType, federationExecutionName, additionalFDDs, federateAmbassador,
-          callbackManager, rtiChannel, hla13RTIambassador);
+          callbackManager, rtiChannel, datagramTransport, hla13RTIambassador);
       }
       finally
       {
@@ -1010,6 +1237,38 @@ public class IEEE1516eRTIambassador
     }
   }
 
+  /**
+   * Requests a federation save at the specified time that recurs every interval of logical time after that. Each
+   * recurring save is labelled with the label followed by the number of the save, starting at 0. This is an OHLA
+   * extension, a later request to save the federation cancels the schedule.
+   */
+  public void requestFederationSave(String label, LogicalTime time, LogicalTimeInterval interval)
+    throws LogicalTimeAlreadyPassed, InvalidLogicalTime, InvalidLogicalTimeInterval, FederateUnableToUseTime,
+           SaveInProgress, RestoreInProgress, FederateNotExecutionMember, NotConnected, RTIinternalError
+  {
+    connectLock.readLock().lock();
+    try
+    {
+      checkIfNotConnected();
+
+      joinResignLock.readLock().lock();
+      try
+      {
+        checkIfFederateNotExecutionMember();
+
+        federate.requestFederationSave(label, time, interval);
+      }
+      finally
+      {
+        joinResignLock.readLock().unlock();
+      }
+    }
+    finally
+    {
+      connectLock.readLock().unlock();
+    }
+  }
+
   public void federateSaveBegun()
     throws SaveNotInitiated, RestoreInProgress, FederateNotExecutionMember, NotConnected, RTIinternalError
   {
@@ -1948,6 +2207,62 @@ public class IEEE1516eRTIambassador
     }
   }
 
+  /**
+   * Updates the attribute values of many object instances at once, as if each had been updated in receive order with
+   * the same tag. The reliable updates are sent to the RTI as one message and each reflecting federate is sent their
+   * reflections as one message, {@code HLAbestEffort} updates are sent on their own as if each object instance had been
+   * updated alone. Nothing is updated if any of the updates is invalid. This is an OHLA extension.
+   */
+  public void updateAttributeValues(Map<ObjectInstanceHandle, AttributeHandleValueMap> attributeValues, byte[] tag)
+    throws AttributeNotOwned, AttributeNotDefined, ObjectInstanceNotKnown, SaveInProgress, RestoreInProgress,
+           FederateNotExecutionMember, NotConnected, RTIinternalError
+  {
+    if (attributeValues == null)
+    {
+      log.warn(LogMessages.UPDATE_ATTRIBUTE_VALUES_BATCH_WITH_NULL_ATTRIBUTE_VALUES);
+    }
+    else
+    {
+      for (Map.Entry<ObjectInstanceHandle, AttributeHandleValueMap> entry : attributeValues.entrySet())
+      {
+        if (entry.getKey() == null)
+        {
+          throw new ObjectInstanceNotKnown(I18n.getMessage(ExceptionMessages.OBJECT_INSTANCE_HANDLE_IS_NULL));
+        }
+        else if (entry.getValue() == null)
+        {
+          log.warn(LogMessages.UPDATE_ATTRIBUTE_VALUES_WITH_NULL_ATTRIBUTE_VALUES, entry.getKey());
+        }
+        else if (entry.getValue().isEmpty())
+        {
+          log.warn(LogMessages.UPDATE_ATTRIBUTE_VALUES_WITH_EMPTY_ATTRIBUTE_VALUES, entry.getKey());
+        }
+      }
+
+      connectLock.readLock().lock();
+      try
+      {
+        checkIfNotConnected();
+
+        joinResignLock.readLock().lock();
+        try
+        {
+          checkIfFederateNotExecutionMember();
+
+          federate.updateAttributeValues(attributeValues, tag);
+        }
+        finally
+        {
+          joinResignLock.readLock().unlock();
+        }
+      }
+      finally
+      {
+        connectLock.readLock().unlock();
+      }
+    }
+  }
+
   public MessageRetractionReturn updateAttributeValues(
     ObjectInstanceHandle objectInstanceHandle, AttributeHandleValueMap attributeValues, byte[] tag, LogicalTime time)
     throws InvalidLogicalTime, AttributeNotOwned, AttributeNotDefined, ObjectInstanceNotKnown, SaveInProgress,
@@ -5188,6 +5503,26 @@ public class IEEE1516eRTIambassador
     }
   }
 
+  /**
+   * Returns the current depth of the callback queue and how long callbacks waited to be evoked. This is an OHLA
+   * extension.
+   */
+  public CallbackMetrics getCallbackMetrics()
+    throws NotConnected
+  {
+    connectLock.readLock().lock();
+    try
+    {
+      checkIfNotConnected();
+
+      return callbackManager.getMetrics();
+    }
+    finally
+    {
+      connectLock.readLock().unlock();
+    }
+  }
+
   public AttributeHandleFactory getAttributeHandleFactory()
     throws FederateNotExecutionMember, NotConnected
   {
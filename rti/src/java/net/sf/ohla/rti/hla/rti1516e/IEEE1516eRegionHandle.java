@@ -45,7 +45,7 @@ public class IEEE1516eRegionHandle
   @Override
   public int hashCode()
   {
-    return regionHandle & (federateHandle.hashCode() << 24);
+    return regionHandle ^ (federateHandle.hashCode() << 24);
   }
 
   @Override
@@ -16,13 +16,13 @@
 
 package net.sf.ohla.rti.hla.rti1516e;
 
-import java.util.HashSet;
+import net.sf.ohla.rti.util.HandleSet;
 
 import hla.rti1516e.RegionHandle;
 import hla.rti1516e.RegionHandleSet;
 
 public class IEEE1516eRegionHandleSet
-  extends HashSet<RegionHandle>
+  extends HandleSet<RegionHandle>
   implements RegionHandleSet
 {
   public IEEE1516eRegionHandleSet()
@@ -33,4 +33,22 @@ public class IEEE1516eRegionHandleSet
   {
     super(initialCapacity);
   }
+
+  @Override
+  protected boolean isHandle(Object o)
+  {
+    return o instanceof IEEE1516eRegionHandle &&
+           ((IEEE1516eRegionHandle) o).getFederateHandle() instanceof IEEE1516eFederateHandle;
+  }
+
+  /**
+   * Region handles are keyed by the federate that created them in the high 32 bits and the region in the low 32 bits.
+   */
+  @Override
+  protected long getKey(Object regionHandle)
+  {
+    IEEE1516eRegionHandle ieee1516eRegionHandle = (IEEE1516eRegionHandle) regionHandle;
+    return ((long) ((IEEE1516eFederateHandle) ieee1516eRegionHandle.getFederateHandle()).handle << 32) |
+           (ieee1516eRegionHandle.getRegionHandle() & 0xffffffffL);
+  }
 }
@@ -22,6 +22,7 @@ import hla.rti1516e.encoding.EncoderFactory;
 import hla.rti1516e.exceptions.RTIinternalError;
 
 import net.sf.ohla.rti.RTI;
+import net.sf.ohla.rti.hla.rti1516e.encoding.IEEE1516eEncoderFactory;
 
 public class IEEE1516eRtiFactory
   implements RtiFactory
@@ -35,7 +36,7 @@ public class IEEE1516eRtiFactory
   public EncoderFactory getEncoderFactory()
     throws RTIinternalError
   {
-    return null;
+    return IEEE1516eEncoderFactory.INSTANCE;
   }
 
   public String rtiName()
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e;
+
+import hla.rti1516e.FederateAmbassador;
+import hla.rti1516e.LogicalTime;
+import hla.rti1516e.exceptions.FederateInternalError;
+
+/**
+ * A federate ambassador that can be rolled back, which lets a time constrained federate advance optimistically in a
+ * federation execution using optimistic time management.
+ * <p/>
+ * Every time advance of an optimistic federate is granted right away, ahead of time stamp ordered messages that may
+ * still arrive. The RTI takes a checkpoint of the federate each time it requests a time advance. When a message
+ * arrives below a time the federate was already granted, or a message it already received is retracted, the RTI
+ * retracts the time stamp ordered messages the federate sent since the last checkpoint before that time and rolls the
+ * federate back to the checkpoint. The federate is then time advancing again, with the time advance it requested when
+ * the checkpoint was taken, and is granted it once more along with the messages it has to receive again.
+ * <p/>
+ * Only the time stamp ordered callbacks and the time state of the federate are rolled back. Object instances cannot
+ * be, so an optimistic federate may neither register nor discover them: publishing or subscribing an object class
+ * throws {@link hla.rti1516e.exceptions.RTIinternalError} in a federation execution using optimistic time management.
+ * An optimistic federate exchanges interactions only.
+ */
+public interface OptimisticFederateAmbassador
+  extends FederateAmbassador
+{
+  /**
+   * Returns the state of the federate as it requests a time advance. It is called by the thread requesting the time
+   * advance, before the request returns.
+   *
+   * @param time the federate time
+   */
+  byte[] saveCheckpoint(LogicalTime time)
+    throws FederateInternalError;
+
+  /**
+   * Restores the state the federate returned from {@link #saveCheckpoint}. Delivered as a callback.
+   *
+   * @param time the federate time the checkpoint was taken at
+   * @param state the state of the federate at the checkpoint
+   */
+  void rollback(LogicalTime time, byte[] state)
+    throws FederateInternalError;
+}
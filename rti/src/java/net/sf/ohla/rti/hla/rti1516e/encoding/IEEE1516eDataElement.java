@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import net.sf.ohla.rti.i18n.ExceptionMessages;
+import net.sf.ohla.rti.i18n.I18n;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.DataElement;
+import hla.rti1516e.encoding.DecoderException;
+import hla.rti1516e.encoding.EncoderException;
+
+/**
+ * Base of the IEEE 1516e data elements. Elements encode straight into the caller's buffer and decode into themselves,
+ * so an element (and all the elements it contains) can be reused for any number of values without allocating.
+ */
+public abstract class IEEE1516eDataElement
+  implements DataElement
+{
+  public void encode(ByteWrapper byteWrapper)
+    throws EncoderException
+  {
+    int remaining = byteWrapper.remaining();
+    try
+    {
+      encodeTo(byteWrapper);
+    }
+    catch (ArrayIndexOutOfBoundsException aioobe)
+    {
+      throw new EncoderException(I18n.getMessage(
+        ExceptionMessages.ENCODE_BUFFER_IS_TOO_SHORT, getEncodedLength(), remaining), aioobe);
+    }
+  }
+
+  /**
+   * Encodes this element into the specified buffer.
+   *
+   * @param buffer the buffer to encode into
+   * @param offset the offset to start encoding at, alignment is relative to it
+   * @return the offset following the encoded element
+   * @throws EncoderException if the element does not fit
+   */
+  public int encode(byte[] buffer, int offset)
+    throws EncoderException
+  {
+    ByteWrapper byteWrapper = new ByteWrapper(buffer, offset);
+    encode(byteWrapper);
+    return byteWrapper.getPos();
+  }
+
+  public byte[] toByteArray()
+    throws EncoderException
+  {
+    byte[] buffer = new byte[getEncodedLength()];
+    encode(new ByteWrapper(buffer));
+    return buffer;
+  }
+
+  public void decode(ByteWrapper byteWrapper)
+    throws DecoderException
+  {
+    try
+    {
+      decodeFrom(byteWrapper);
+    }
+    catch (ArrayIndexOutOfBoundsException aioobe)
+    {
+      throw new DecoderException(I18n.getMessage(ExceptionMessages.DECODE_BUFFER_UNDERFLOW, this), aioobe);
+    }
+  }
+
+  public void decode(byte[] bytes)
+    throws DecoderException
+  {
+    decode(new ByteWrapper(bytes));
+  }
+
+  protected abstract void encodeTo(ByteWrapper byteWrapper)
+    throws EncoderException;
+
+  protected abstract void decodeFrom(ByteWrapper byteWrapper)
+    throws DecoderException;
+
+  /**
+   * Returns the number of padding bytes needed to align the specified length to the specified octet boundary.
+   */
+  protected static int padding(int length, int octetBoundary)
+  {
+    int remainder = length % octetBoundary;
+    return remainder == 0 ? 0 : octetBoundary - remainder;
+  }
+
+  /**
+   * Decodes an element count and ensures at least the specified number of bytes per element remain.
+   */
+  protected static int getCount(ByteWrapper byteWrapper, int minimumElementLength)
+    throws DecoderException
+  {
+    int count = getInt32BE(byteWrapper);
+    if (count < 0 || (long) count * minimumElementLength > byteWrapper.remaining())
+    {
+      throw new DecoderException(I18n.getMessage(
+        ExceptionMessages.INVALID_ELEMENT_COUNT, count, byteWrapper.remaining()));
+    }
+    return count;
+  }
+
+  protected static void putInt16BE(ByteWrapper byteWrapper, short value)
+  {
+    byteWrapper.verify(2);
+    byte[] buffer = byteWrapper.array();
+    int position = byteWrapper.getPos();
+    buffer[position] = (byte) (value >>> 8);
+    buffer[position + 1] = (byte) value;
+    byteWrapper.advance(2);
+  }
+
+  protected static void putInt16LE(ByteWrapper byteWrapper, short value)
+  {
+    byteWrapper.verify(2);
+    byte[] buffer = byteWrapper.array();
+    int position = byteWrapper.getPos();
+    buffer[position] = (byte) value;
+    buffer[position + 1] = (byte) (value >>> 8);
+    byteWrapper.advance(2);
+  }
+
+  protected static void putInt32BE(ByteWrapper byteWrapper, int value)
+  {
+    byteWrapper.verify(4);
+    byte[] buffer = byteWrapper.array();
+    int position = byteWrapper.getPos();
+    buffer[position] = (byte) (value >>> 24);
+    buffer[position + 1] = (byte) (value >>> 16);
+    buffer[position + 2] = (byte) (value >>> 8);
+    buffer[position + 3] = (byte) value;
+    byteWrapper.advance(4);
+  }
+
+  protected static void putInt32LE(ByteWrapper byteWrapper, int value)
+  {
+    byteWrapper.verify(4);
+    byte[] buffer = byteWrapper.array();
+    int position = byteWrapper.getPos();
+    buffer[position] = (byte) value;
+    buffer[position + 1] = (byte) (value >>> 8);
+    buffer[position + 2] = (byte) (value >>> 16);
+    buffer[position + 3] = (byte) (value >>> 24);
+    byteWrapper.advance(4);
+  }
+
+  protected static void putInt64BE(ByteWrapper byteWrapper, long value)
+  {
+    byteWrapper.verify(8);
+    byte[] buffer = byteWrapper.array();
+    int position = byteWrapper.getPos();
+    for (int i = 7; i >= 0; i--, value >>>= 8)
+    {
+      buffer[position + i] = (byte) value;
+    }
+    byteWrapper.advance(8);
+  }
+
+  protected static void putInt64LE(ByteWrapper byteWrapper, long value)
+  {
+    byteWrapper.verify(8);
+    byte[] buffer = byteWrapper.array();
+    int position = byteWrapper.getPos();
+    for (int i = 0; i < 8; i++, value >>>= 8)
+    {
+      buffer[position + i] = (byte) value;
+    }
+    byteWrapper.advance(8);
+  }
+
+  protected static short getInt16BE(ByteWrapper byteWrapper)
+  {
+    byteWrapper.verify(2);
+    byte[] buffer = byteWrapper.array();
+    int position = byteWrapper.getPos();
+    short value = (short) ((buffer[position] << 8) | (buffer[position + 1] & 0xFF));
+    byteWrapper.advance(2);
+    return value;
+  }
+
+  protected static short getInt16LE(ByteWrapper byteWrapper)
+  {
+    byteWrapper.verify(2);
+    byte[] buffer = byteWrapper.array();
+    int position = byteWrapper.getPos();
+    short value = (short) ((buffer[position] & 0xFF) | (buffer[position + 1] << 8));
+    byteWrapper.advance(2);
+    return value;
+  }
+
+  protected static int getInt32BE(ByteWrapper byteWrapper)
+  {
+    byteWrapper.verify(4);
+    byte[] buffer = byteWrapper.array();
+    int position = byteWrapper.getPos();
+    int value = (buffer[position] << 24) | ((buffer[position + 1] & 0xFF) << 16) |
+                ((buffer[position + 2] & 0xFF) << 8) | (buffer[position + 3] & 0xFF);
+    byteWrapper.advance(4);
+    return value;
+  }
+
+  protected static int getInt32LE(ByteWrapper byteWrapper)
+  {
+    byteWrapper.verify(4);
+    byte[] buffer = byteWrapper.array();
+    int position = byteWrapper.getPos();
+    int value = (buffer[position] & 0xFF) | ((buffer[position + 1] & 0xFF) << 8) |
+                ((buffer[position + 2] & 0xFF) << 16) | (buffer[position + 3] << 24);
+    byteWrapper.advance(4);
+    return value;
+  }
+
+  protected static long getInt64BE(ByteWrapper byteWrapper)
+  {
+    byteWrapper.verify(8);
+    byte[] buffer = byteWrapper.array();
+    int position = byteWrapper.getPos();
+    long value = 0L;
+    for (int i = 0; i < 8; i++)
+    {
+      value = (value << 8) | (buffer[position + i] & 0xFF);
+    }
+    byteWrapper.advance(8);
+    return value;
+  }
+
+  protected static long getInt64LE(ByteWrapper byteWrapper)
+  {
+    byteWrapper.verify(8);
+    byte[] buffer = byteWrapper.array();
+    int position = byteWrapper.getPos();
+    long value = 0L;
+    for (int i = 7; i >= 0; i--)
+    {
+      value = (value << 8) | (buffer[position + i] & 0xFF);
+    }
+    byteWrapper.advance(8);
+    return value;
+  }
+}
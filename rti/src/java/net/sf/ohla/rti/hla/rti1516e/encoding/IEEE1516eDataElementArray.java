@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.DataElement;
+import hla.rti1516e.encoding.DecoderException;
+import hla.rti1516e.encoding.EncoderException;
+
+/**
+ * Base of the data elements made up of a sequence of other data elements. The elements are kept in an array that only
+ * grows, elements beyond the current size are kept around so they can be reused.
+ */
+public abstract class IEEE1516eDataElementArray<T extends DataElement>
+  extends IEEE1516eDataElement
+  implements Iterable<T>
+{
+  private static final DataElement[] EMPTY = new DataElement[0];
+
+  protected DataElement[] dataElements;
+  protected int size;
+
+  protected IEEE1516eDataElementArray()
+  {
+    dataElements = EMPTY;
+  }
+
+  protected IEEE1516eDataElementArray(DataElement[] dataElements)
+  {
+    this.dataElements = dataElements;
+
+    size = dataElements.length;
+  }
+
+  public int size()
+  {
+    return size;
+  }
+
+  @SuppressWarnings("unchecked")
+  public T get(int index)
+  {
+    if (index < 0 || index >= size)
+    {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+    return (T) dataElements[index];
+  }
+
+  public Iterator<T> iterator()
+  {
+    return new Iterator<T>()
+    {
+      private int index;
+
+      public boolean hasNext()
+      {
+        return index < size;
+      }
+
+      @SuppressWarnings("unchecked")
+      public T next()
+      {
+        if (index >= size)
+        {
+          throw new NoSuchElementException();
+        }
+        return (T) dataElements[index++];
+      }
+
+      public void remove()
+      {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  protected void add(DataElement dataElement)
+  {
+    if (size == dataElements.length)
+    {
+      dataElements = Arrays.copyOf(dataElements, Math.max(4, size * 2));
+    }
+    dataElements[size++] = dataElement;
+  }
+
+  /**
+   * Returns the largest octet boundary of the elements, or the specified minimum if it is larger.
+   */
+  protected int getOctetBoundary(int minimumOctetBoundary)
+  {
+    int octetBoundary = minimumOctetBoundary;
+    for (int i = 0; i < size; i++)
+    {
+      octetBoundary = Math.max(octetBoundary, dataElements[i].getOctetBoundary());
+    }
+    return octetBoundary;
+  }
+
+  /**
+   * Returns the encoded length of the elements when they are encoded after the specified number of bytes.
+   */
+  protected int getEncodedLength(int length)
+  {
+    for (int i = 0; i < size; i++)
+    {
+      DataElement dataElement = dataElements[i];
+      length += padding(length, dataElement.getOctetBoundary()) + dataElement.getEncodedLength();
+    }
+    return length;
+  }
+
+  /**
+   * Encodes the elements, going straight to {@link #encodeTo} for elements of our own, buffer overflows are reported by
+   * the outermost element.
+   */
+  protected void encodeElements(ByteWrapper byteWrapper)
+    throws EncoderException
+  {
+    for (int i = 0; i < size; i++)
+    {
+      DataElement dataElement = dataElements[i];
+      if (dataElement instanceof IEEE1516eDataElement)
+      {
+        ((IEEE1516eDataElement) dataElement).encodeTo(byteWrapper);
+      }
+      else
+      {
+        dataElement.encode(byteWrapper);
+      }
+    }
+  }
+
+  /**
+   * Decodes the elements, going straight to {@link #decodeFrom} for elements of our own, buffer underflows are reported
+   * by the outermost element.
+   */
+  protected void decodeElements(ByteWrapper byteWrapper)
+    throws DecoderException
+  {
+    for (int i = 0; i < size; i++)
+    {
+      DataElement dataElement = dataElements[i];
+      if (dataElement instanceof IEEE1516eDataElement)
+      {
+        ((IEEE1516eDataElement) dataElement).decodeFrom(byteWrapper);
+      }
+      else
+      {
+        dataElement.decode(byteWrapper);
+      }
+    }
+  }
+
+  protected boolean elementsEqual(Iterable<? extends DataElement> rhs, int rhsSize)
+  {
+    boolean equals = size == rhsSize;
+    Iterator<? extends DataElement> i = rhs.iterator();
+    for (int j = 0; j < size && equals; j++)
+    {
+      equals = dataElements[j].equals(i.next());
+    }
+    return equals;
+  }
+
+  @Override
+  public int hashCode()
+  {
+    int hashCode = 1;
+    for (int i = 0; i < size; i++)
+    {
+      hashCode = 31 * hashCode + dataElements[i].hashCode();
+    }
+    return hashCode;
+  }
+
+  @Override
+  public String toString()
+  {
+    StringBuilder sb = new StringBuilder().append('[');
+    for (int i = 0; i < size; i++)
+    {
+      if (i > 0)
+      {
+        sb.append(", ");
+      }
+      sb.append(dataElements[i]);
+    }
+    return sb.append(']').toString();
+  }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import hla.rti1516e.encoding.DataElement;
+import hla.rti1516e.encoding.DataElementFactory;
+import hla.rti1516e.encoding.EncoderFactory;
+import hla.rti1516e.encoding.HLAASCIIchar;
+import hla.rti1516e.encoding.HLAASCIIstring;
+import hla.rti1516e.encoding.HLAboolean;
+import hla.rti1516e.encoding.HLAbyte;
+import hla.rti1516e.encoding.HLAfixedArray;
+import hla.rti1516e.encoding.HLAfixedRecord;
+import hla.rti1516e.encoding.HLAfloat32BE;
+import hla.rti1516e.encoding.HLAfloat32LE;
+import hla.rti1516e.encoding.HLAfloat64BE;
+import hla.rti1516e.encoding.HLAfloat64LE;
+import hla.rti1516e.encoding.HLAinteger16BE;
+import hla.rti1516e.encoding.HLAinteger16LE;
+import hla.rti1516e.encoding.HLAinteger32BE;
+import hla.rti1516e.encoding.HLAinteger32LE;
+import hla.rti1516e.encoding.HLAinteger64BE;
+import hla.rti1516e.encoding.HLAinteger64LE;
+import hla.rti1516e.encoding.HLAoctet;
+import hla.rti1516e.encoding.HLAoctetPairBE;
+import hla.rti1516e.encoding.HLAoctetPairLE;
+import hla.rti1516e.encoding.HLAopaqueData;
+import hla.rti1516e.encoding.HLAunicodeChar;
+import hla.rti1516e.encoding.HLAunicodeString;
+import hla.rti1516e.encoding.HLAvariableArray;
+import hla.rti1516e.encoding.HLAvariantRecord;
+
+/**
+ * Creates the IEEE 1516e data elements, see {@link IEEE1516eDataElement}.
+ */
+public class IEEE1516eEncoderFactory
+  implements EncoderFactory
+{
+  public static final IEEE1516eEncoderFactory INSTANCE = new IEEE1516eEncoderFactory();
+
+  public HLAASCIIchar createHLAASCIIchar()
+  {
+    return new IEEE1516eHLAASCIIchar();
+  }
+
+  public HLAASCIIchar createHLAASCIIchar(byte b)
+  {
+    return new IEEE1516eHLAASCIIchar(b);
+  }
+
+  public HLAASCIIstring createHLAASCIIstring()
+  {
+    return new IEEE1516eHLAASCIIstring();
+  }
+
+  public HLAASCIIstring createHLAASCIIstring(String s)
+  {
+    return new IEEE1516eHLAASCIIstring(s);
+  }
+
+  public HLAboolean createHLAboolean()
+  {
+    return new IEEE1516eHLAboolean();
+  }
+
+  public HLAboolean createHLAboolean(boolean b)
+  {
+    return new IEEE1516eHLAboolean(b);
+  }
+
+  public HLAbyte createHLAbyte()
+  {
+    return new IEEE1516eHLAbyte();
+  }
+
+  public HLAbyte createHLAbyte(byte b)
+  {
+    return new IEEE1516eHLAbyte(b);
+  }
+
+  public <T extends DataElement> HLAvariantRecord<T> createHLAvariantRecord(T discriminant)
+  {
+    return new IEEE1516eHLAvariantRecord<>(discriminant);
+  }
+
+  public HLAfixedRecord createHLAfixedRecord()
+  {
+    return new IEEE1516eHLAfixedRecord();
+  }
+
+  public <T extends DataElement> HLAfixedArray<T> createHLAfixedArray(DataElementFactory<T> factory, int size)
+  {
+    return new IEEE1516eHLAfixedArray<>(factory, size);
+  }
+
+  @SafeVarargs
+  @SuppressWarnings("varargs") // the array only ever holds the elements, it is never handed back as a T[]
+  public final <T extends DataElement> HLAfixedArray<T> createHLAfixedArray(T... elements)
+  {
+    return new IEEE1516eHLAfixedArray<>(elements);
+  }
+
+  public HLAfloat32BE createHLAfloat32BE()
+  {
+    return new IEEE1516eHLAfloat32BE();
+  }
+
+  public HLAfloat32BE createHLAfloat32BE(float f)
+  {
+    return new IEEE1516eHLAfloat32BE(f);
+  }
+
+  public HLAfloat32LE createHLAfloat32LE()
+  {
+    return new IEEE1516eHLAfloat32LE();
+  }
+
+  public HLAfloat32LE createHLAfloat32LE(float f)
+  {
+    return new IEEE1516eHLAfloat32LE(f);
+  }
+
+  public HLAfloat64BE createHLAfloat64BE()
+  {
+    return new IEEE1516eHLAfloat64BE();
+  }
+
+  public HLAfloat64BE createHLAfloat64BE(double d)
+  {
+    return new IEEE1516eHLAfloat64BE(d);
+  }
+
+  public HLAfloat64LE createHLAfloat64LE()
+  {
+    return new IEEE1516eHLAfloat64LE();
+  }
+
+  public HLAfloat64LE createHLAfloat64LE(double d)
+  {
+    return new IEEE1516eHLAfloat64LE(d);
+  }
+
+  public HLAinteger16BE createHLAinteger16BE()
+  {
+    return new IEEE1516eHLAinteger16BE();
+  }
+
+  public HLAinteger16BE createHLAinteger16BE(short s)
+  {
+    return new IEEE1516eHLAinteger16BE(s);
+  }
+
+  public HLAinteger16LE createHLAinteger16LE()
+  {
+    return new IEEE1516eHLAinteger16LE();
+  }
+
+  public HLAinteger16LE createHLAinteger16LE(short s)
+  {
+    return new IEEE1516eHLAinteger16LE(s);
+  }
+
+  public HLAinteger32BE createHLAinteger32BE()
+  {
+    return new IEEE1516eHLAinteger32BE();
+  }
+
+  public HLAinteger32BE createHLAinteger32BE(int i)
+  {
+    return new IEEE1516eHLAinteger32BE(i);
+  }
+
+  public HLAinteger32LE createHLAinteger32LE()
+  {
+    return new IEEE1516eHLAinteger32LE();
+  }
+
+  public HLAinteger32LE createHLAinteger32LE(int i)
+  {
+    return new IEEE1516eHLAinteger32LE(i);
+  }
+
+  public HLAinteger64BE createHLAinteger64BE()
+  {
+    return new IEEE1516eHLAinteger64BE();
+  }
+
+  public HLAinteger64BE createHLAinteger64BE(long l)
+  {
+    return new IEEE1516eHLAinteger64BE(l);
+  }
+
+  public HLAinteger64LE createHLAinteger64LE()
+  {
+    return new IEEE1516eHLAinteger64LE();
+  }
+
+  public HLAinteger64LE createHLAinteger64LE(long l)
+  {
+    return new IEEE1516eHLAinteger64LE(l);
+  }
+
+  public HLAoctet createHLAoctet()
+  {
+    return new IEEE1516eHLAoctet();
+  }
+
+  public HLAoctet createHLAoctet(byte b)
+  {
+    return new IEEE1516eHLAoctet(b);
+  }
+
+  public HLAoctetPairBE createHLAoctetPairBE()
+  {
+    return new IEEE1516eHLAoctetPairBE();
+  }
+
+  public HLAoctetPairBE createHLAoctetPairBE(short s)
+  {
+    return new IEEE1516eHLAoctetPairBE(s);
+  }
+
+  public HLAoctetPairLE createHLAoctetPairLE()
+  {
+    return new IEEE1516eHLAoctetPairLE();
+  }
+
+  public HLAoctetPairLE createHLAoctetPairLE(short s)
+  {
+    return new IEEE1516eHLAoctetPairLE(s);
+  }
+
+  public HLAopaqueData createHLAopaqueData()
+  {
+    return new IEEE1516eHLAopaqueData();
+  }
+
+  public HLAopaqueData createHLAopaqueData(byte[] b)
+  {
+    return new IEEE1516eHLAopaqueData(b);
+  }
+
+  public HLAunicodeChar createHLAunicodeChar()
+  {
+    return new IEEE1516eHLAunicodeChar();
+  }
+
+  public HLAunicodeChar createHLAunicodeChar(short c)
+  {
+    return new IEEE1516eHLAunicodeChar(c);
+  }
+
+  public HLAunicodeString createHLAunicodeString()
+  {
+    return new IEEE1516eHLAunicodeString();
+  }
+
+  public HLAunicodeString createHLAunicodeString(String s)
+  {
+    return new IEEE1516eHLAunicodeString(s);
+  }
+
+  @SafeVarargs
+  @SuppressWarnings("varargs") // the elements are copied into an array of their own
+  public final <T extends DataElement> HLAvariableArray<T> createHLAvariableArray(
+    DataElementFactory<T> factory, T... elements)
+  {
+    return new IEEE1516eHLAvariableArray<>(factory, elements);
+  }
+}
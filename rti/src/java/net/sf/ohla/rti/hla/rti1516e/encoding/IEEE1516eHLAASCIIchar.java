@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.HLAASCIIchar;
+
+public class IEEE1516eHLAASCIIchar
+  extends IEEE1516eDataElement
+  implements HLAASCIIchar
+{
+  protected byte value;
+
+  public IEEE1516eHLAASCIIchar()
+  {
+  }
+
+  public IEEE1516eHLAASCIIchar(byte value)
+  {
+    this.value = value;
+  }
+
+  public int getOctetBoundary()
+  {
+    return 1;
+  }
+
+  public int getEncodedLength()
+  {
+    return 1;
+  }
+
+  public byte getValue()
+  {
+    return value;
+  }
+
+  public void setValue(byte value)
+  {
+    this.value = value;
+  }
+
+  protected void encodeTo(ByteWrapper byteWrapper)
+  {
+    byteWrapper.put(value);
+  }
+
+  protected void decodeFrom(ByteWrapper byteWrapper)
+  {
+    value = (byte) byteWrapper.get();
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object rhs)
+  {
+    return rhs instanceof HLAASCIIchar &&
+           value == ((HLAASCIIchar) rhs).getValue();
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.valueOf((char) (value & 0xFF));
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import java.nio.charset.StandardCharsets;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.DecoderException;
+import hla.rti1516e.encoding.HLAASCIIstring;
+
+public class IEEE1516eHLAASCIIstring
+  extends IEEE1516eDataElement
+  implements HLAASCIIstring
+{
+  protected String value;
+
+  public IEEE1516eHLAASCIIstring()
+  {
+    this("");
+  }
+
+  public IEEE1516eHLAASCIIstring(String value)
+  {
+    this.value = value == null ? "" : value;
+  }
+
+  public int getOctetBoundary()
+  {
+    return 4;
+  }
+
+  public int getEncodedLength()
+  {
+    return 4 + value.length();
+  }
+
+  public String getValue()
+  {
+    return value;
+  }
+
+  public void setValue(String value)
+  {
+    this.value = value == null ? "" : value;
+  }
+
+  protected void encodeTo(ByteWrapper byteWrapper)
+  {
+    int length = value.length();
+
+    byteWrapper.align(4);
+    putInt32BE(byteWrapper, length);
+
+    byteWrapper.verify(length);
+    byte[] buffer = byteWrapper.array();
+    for (int i = 0, position = byteWrapper.getPos(); i < length; i++)
+    {
+      buffer[position + i] = (byte) value.charAt(i);
+    }
+    byteWrapper.advance(length);
+  }
+
+  protected void decodeFrom(ByteWrapper byteWrapper)
+    throws DecoderException
+  {
+    byteWrapper.align(4);
+    int length = getCount(byteWrapper, 1);
+
+    byte[] buffer = byteWrapper.array();
+    int position = byteWrapper.getPos();
+
+    // only create a new String when the value actually changed
+    //
+    boolean changed = length != value.length();
+    for (int i = 0; i < length && !changed; i++)
+    {
+      changed = value.charAt(i) != (char) (buffer[position + i] & 0xFF);
+    }
+    if (changed)
+    {
+      value = new String(buffer, position, length, StandardCharsets.ISO_8859_1);
+    }
+    byteWrapper.advance(length);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return value.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object rhs)
+  {
+    return rhs instanceof HLAASCIIstring &&
+           value.equals(((HLAASCIIstring) rhs).getValue());
+  }
+
+  @Override
+  public String toString()
+  {
+    return value;
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.HLAboolean;
+
+public class IEEE1516eHLAboolean
+  extends IEEE1516eDataElement
+  implements HLAboolean
+{
+  protected boolean value;
+
+  public IEEE1516eHLAboolean()
+  {
+  }
+
+  public IEEE1516eHLAboolean(boolean value)
+  {
+    this.value = value;
+  }
+
+  public int getOctetBoundary()
+  {
+    return 4;
+  }
+
+  public int getEncodedLength()
+  {
+    return 4;
+  }
+
+  public boolean getValue()
+  {
+    return value;
+  }
+
+  public void setValue(boolean value)
+  {
+    this.value = value;
+  }
+
+  protected void encodeTo(ByteWrapper byteWrapper)
+  {
+    byteWrapper.align(4);
+    putInt32BE(byteWrapper, value ? 1 : 0);
+  }
+
+  protected void decodeFrom(ByteWrapper byteWrapper)
+  {
+    byteWrapper.align(4);
+    value = getInt32BE(byteWrapper) != 0;
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return value ? 1231 : 1237;
+  }
+
+  @Override
+  public boolean equals(Object rhs)
+  {
+    return rhs instanceof HLAboolean &&
+           value == ((HLAboolean) rhs).getValue();
+  }
+
+  @Override
+  public String toString()
+  {
+    return Boolean.toString(value);
+  }
+}
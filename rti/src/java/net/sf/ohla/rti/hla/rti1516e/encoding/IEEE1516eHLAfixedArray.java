@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.DataElement;
+import hla.rti1516e.encoding.DataElementFactory;
+import hla.rti1516e.encoding.DecoderException;
+import hla.rti1516e.encoding.EncoderException;
+import hla.rti1516e.encoding.HLAfixedArray;
+
+public class IEEE1516eHLAfixedArray<T extends DataElement>
+  extends IEEE1516eDataElementArray<T>
+  implements HLAfixedArray<T>
+{
+  public IEEE1516eHLAfixedArray(DataElementFactory<T> dataElementFactory, int size)
+  {
+    super(new DataElement[size]);
+
+    for (int i = 0; i < size; i++)
+    {
+      dataElements[i] = dataElementFactory.createElement(i);
+    }
+  }
+
+  @SafeVarargs
+  @SuppressWarnings("varargs") // the array only ever holds the elements, it is never handed back as a T[]
+  public IEEE1516eHLAfixedArray(T... dataElements)
+  {
+    super(dataElements);
+  }
+
+  public int getOctetBoundary()
+  {
+    // the elements of an array are all of the same type
+    //
+    return size == 0 ? 1 : dataElements[0].getOctetBoundary();
+  }
+
+  public int getEncodedLength()
+  {
+    return getEncodedLength(0);
+  }
+
+  protected void encodeTo(ByteWrapper byteWrapper)
+    throws EncoderException
+  {
+    byteWrapper.align(getOctetBoundary());
+    encodeElements(byteWrapper);
+  }
+
+  protected void decodeFrom(ByteWrapper byteWrapper)
+    throws DecoderException
+  {
+    byteWrapper.align(getOctetBoundary());
+    decodeElements(byteWrapper);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean equals(Object rhs)
+  {
+    return rhs instanceof HLAfixedArray &&
+           elementsEqual((HLAfixedArray<DataElement>) rhs, ((HLAfixedArray) rhs).size());
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.DataElement;
+import hla.rti1516e.encoding.DecoderException;
+import hla.rti1516e.encoding.EncoderException;
+import hla.rti1516e.encoding.HLAfixedRecord;
+
+public class IEEE1516eHLAfixedRecord
+  extends IEEE1516eDataElementArray<DataElement>
+  implements HLAfixedRecord
+{
+  public IEEE1516eHLAfixedRecord()
+  {
+  }
+
+  @Override
+  public void add(DataElement dataElement)
+  {
+    super.add(dataElement);
+  }
+
+  public int getOctetBoundary()
+  {
+    return getOctetBoundary(1);
+  }
+
+  public int getEncodedLength()
+  {
+    return getEncodedLength(0);
+  }
+
+  protected void encodeTo(ByteWrapper byteWrapper)
+    throws EncoderException
+  {
+    byteWrapper.align(getOctetBoundary());
+    encodeElements(byteWrapper);
+  }
+
+  protected void decodeFrom(ByteWrapper byteWrapper)
+    throws DecoderException
+  {
+    byteWrapper.align(getOctetBoundary());
+    decodeElements(byteWrapper);
+  }
+
+  @Override
+  public boolean equals(Object rhs)
+  {
+    return rhs instanceof HLAfixedRecord &&
+           elementsEqual((HLAfixedRecord) rhs, ((HLAfixedRecord) rhs).size());
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.HLAfloat32BE;
+
+public class IEEE1516eHLAfloat32BE
+  extends IEEE1516eDataElement
+  implements HLAfloat32BE
+{
+  protected float value;
+
+  public IEEE1516eHLAfloat32BE()
+  {
+  }
+
+  public IEEE1516eHLAfloat32BE(float value)
+  {
+    this.value = value;
+  }
+
+  public int getOctetBoundary()
+  {
+    return 4;
+  }
+
+  public int getEncodedLength()
+  {
+    return 4;
+  }
+
+  public float getValue()
+  {
+    return value;
+  }
+
+  public void setValue(float value)
+  {
+    this.value = value;
+  }
+
+  protected void encodeTo(ByteWrapper byteWrapper)
+  {
+    byteWrapper.align(4);
+    putInt32BE(byteWrapper, Float.floatToIntBits(value));
+  }
+
+  protected void decodeFrom(ByteWrapper byteWrapper)
+  {
+    byteWrapper.align(4);
+    value = Float.intBitsToFloat(getInt32BE(byteWrapper));
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Float.floatToIntBits(value);
+  }
+
+  @Override
+  public boolean equals(Object rhs)
+  {
+    return rhs instanceof HLAfloat32BE &&
+           Float.compare(value, ((HLAfloat32BE) rhs).getValue()) == 0;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Float.toString(value);
+  }
+}
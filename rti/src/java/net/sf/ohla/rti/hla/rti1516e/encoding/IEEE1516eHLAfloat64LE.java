@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.HLAfloat64LE;
+
+public class IEEE1516eHLAfloat64LE
+  extends IEEE1516eDataElement
+  implements HLAfloat64LE
+{
+  protected double value;
+
+  public IEEE1516eHLAfloat64LE()
+  {
+  }
+
+  public IEEE1516eHLAfloat64LE(double value)
+  {
+    this.value = value;
+  }
+
+  public int getOctetBoundary()
+  {
+    return 8;
+  }
+
+  public int getEncodedLength()
+  {
+    return 8;
+  }
+
+  public double getValue()
+  {
+    return value;
+  }
+
+  public void setValue(double value)
+  {
+    this.value = value;
+  }
+
+  protected void encodeTo(ByteWrapper byteWrapper)
+  {
+    byteWrapper.align(8);
+    putInt64LE(byteWrapper, Double.doubleToLongBits(value));
+  }
+
+  protected void decodeFrom(ByteWrapper byteWrapper)
+  {
+    byteWrapper.align(8);
+    value = Double.longBitsToDouble(getInt64LE(byteWrapper));
+  }
+
+  @Override
+  public int hashCode()
+  {
+    long bits = Double.doubleToLongBits(value);
+    return (int) (bits ^ (bits >>> 32));
+  }
+
+  @Override
+  public boolean equals(Object rhs)
+  {
+    return rhs instanceof HLAfloat64LE &&
+           Double.compare(value, ((HLAfloat64LE) rhs).getValue()) == 0;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Double.toString(value);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.HLAinteger32BE;
+
+public class IEEE1516eHLAinteger32BE
+  extends IEEE1516eDataElement
+  implements HLAinteger32BE
+{
+  protected int value;
+
+  public IEEE1516eHLAinteger32BE()
+  {
+  }
+
+  public IEEE1516eHLAinteger32BE(int value)
+  {
+    this.value = value;
+  }
+
+  public int getOctetBoundary()
+  {
+    return 4;
+  }
+
+  public int getEncodedLength()
+  {
+    return 4;
+  }
+
+  public int getValue()
+  {
+    return value;
+  }
+
+  public void setValue(int value)
+  {
+    this.value = value;
+  }
+
+  protected void encodeTo(ByteWrapper byteWrapper)
+  {
+    byteWrapper.align(4);
+    putInt32BE(byteWrapper, value);
+  }
+
+  protected void decodeFrom(ByteWrapper byteWrapper)
+  {
+    byteWrapper.align(4);
+    value = getInt32BE(byteWrapper);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object rhs)
+  {
+    return rhs instanceof HLAinteger32BE &&
+           value == ((HLAinteger32BE) rhs).getValue();
+  }
+
+  @Override
+  public String toString()
+  {
+    return Integer.toString(value);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.HLAinteger64LE;
+
+public class IEEE1516eHLAinteger64LE
+  extends IEEE1516eDataElement
+  implements HLAinteger64LE
+{
+  protected long value;
+
+  public IEEE1516eHLAinteger64LE()
+  {
+  }
+
+  public IEEE1516eHLAinteger64LE(long value)
+  {
+    this.value = value;
+  }
+
+  public int getOctetBoundary()
+  {
+    return 8;
+  }
+
+  public int getEncodedLength()
+  {
+    return 8;
+  }
+
+  public long getValue()
+  {
+    return value;
+  }
+
+  public void setValue(long value)
+  {
+    this.value = value;
+  }
+
+  protected void encodeTo(ByteWrapper byteWrapper)
+  {
+    byteWrapper.align(8);
+    putInt64LE(byteWrapper, value);
+  }
+
+  protected void decodeFrom(ByteWrapper byteWrapper)
+  {
+    byteWrapper.align(8);
+    value = getInt64LE(byteWrapper);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return (int) (value ^ (value >>> 32));
+  }
+
+  @Override
+  public boolean equals(Object rhs)
+  {
+    return rhs instanceof HLAinteger64LE &&
+           value == ((HLAinteger64LE) rhs).getValue();
+  }
+
+  @Override
+  public String toString()
+  {
+    return Long.toString(value);
+  }
+}
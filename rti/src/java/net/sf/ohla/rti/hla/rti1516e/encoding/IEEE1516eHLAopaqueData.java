@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.DecoderException;
+import hla.rti1516e.encoding.HLAopaqueData;
+
+public class IEEE1516eHLAopaqueData
+  extends IEEE1516eDataElement
+  implements HLAopaqueData
+{
+  private static final byte[] EMPTY = new byte[0];
+
+  protected byte[] value;
+
+  /**
+   * The array allocated by the last decode, decodes only write into arrays they allocated themselves.
+   */
+  private byte[] decoded;
+
+  public IEEE1516eHLAopaqueData()
+  {
+    this(EMPTY);
+  }
+
+  public IEEE1516eHLAopaqueData(byte[] value)
+  {
+    this.value = value == null ? EMPTY : value;
+  }
+
+  public int size()
+  {
+    return value.length;
+  }
+
+  public byte get(int index)
+  {
+    return value[index];
+  }
+
+  public Iterator<Byte> iterator()
+  {
+    return new Iterator<Byte>()
+    {
+      private int index;
+
+      public boolean hasNext()
+      {
+        return index < value.length;
+      }
+
+      public Byte next()
+      {
+        if (index >= value.length)
+        {
+          throw new NoSuchElementException();
+        }
+        return value[index++];
+      }
+
+      public void remove()
+      {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  /**
+   * Returns the value without copying it, an array allocated by a decode is reused by
+   * subsequent decodes of the same length.
+   */
+  public byte[] getValue()
+  {
+    return value;
+  }
+
+  public void setValue(byte[] value)
+  {
+    this.value = value == null ? EMPTY : value;
+  }
+
+  public int getOctetBoundary()
+  {
+    return 4;
+  }
+
+  public int getEncodedLength()
+  {
+    return 4 + value.length;
+  }
+
+  protected void encodeTo(ByteWrapper byteWrapper)
+  {
+    byteWrapper.align(4);
+    putInt32BE(byteWrapper, value.length);
+    byteWrapper.put(value);
+  }
+
+  protected void decodeFrom(ByteWrapper byteWrapper)
+    throws DecoderException
+  {
+    byteWrapper.align(4);
+    int length = getCount(byteWrapper, 1);
+    if (value != decoded || length != value.length)
+    {
+      value = decoded = new byte[length];
+    }
+    byteWrapper.get(value);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Arrays.hashCode(value);
+  }
+
+  @Override
+  public boolean equals(Object rhs)
+  {
+    return rhs instanceof HLAopaqueData &&
+           Arrays.equals(value, ((HLAopaqueData) rhs).getValue());
+  }
+
+  @Override
+  public String toString()
+  {
+    return Arrays.toString(value);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.HLAunicodeChar;
+
+public class IEEE1516eHLAunicodeChar
+  extends IEEE1516eDataElement
+  implements HLAunicodeChar
+{
+  protected short value;
+
+  public IEEE1516eHLAunicodeChar()
+  {
+  }
+
+  public IEEE1516eHLAunicodeChar(short value)
+  {
+    this.value = value;
+  }
+
+  public int getOctetBoundary()
+  {
+    return 2;
+  }
+
+  public int getEncodedLength()
+  {
+    return 2;
+  }
+
+  public short getValue()
+  {
+    return value;
+  }
+
+  public void setValue(short value)
+  {
+    this.value = value;
+  }
+
+  protected void encodeTo(ByteWrapper byteWrapper)
+  {
+    byteWrapper.align(2);
+    putInt16BE(byteWrapper, value);
+  }
+
+  protected void decodeFrom(ByteWrapper byteWrapper)
+  {
+    byteWrapper.align(2);
+    value = getInt16BE(byteWrapper);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object rhs)
+  {
+    return rhs instanceof HLAunicodeChar &&
+           value == ((HLAunicodeChar) rhs).getValue();
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.valueOf((char) value);
+  }
+}
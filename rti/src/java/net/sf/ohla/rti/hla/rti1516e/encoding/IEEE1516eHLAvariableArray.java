@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import java.util.Arrays;
+
+import net.sf.ohla.rti.i18n.ExceptionMessages;
+import net.sf.ohla.rti.i18n.I18n;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.DataElement;
+import hla.rti1516e.encoding.DataElementFactory;
+import hla.rti1516e.encoding.DecoderException;
+import hla.rti1516e.encoding.EncoderException;
+import hla.rti1516e.encoding.HLAvariableArray;
+
+/**
+ * A variable array that keeps the elements it has created. Shrinking the array, either through {@link #resize} or
+ * by decoding fewer elements, keeps the elements beyond the new size so growing it again reuses them instead of
+ * going back to the {@link DataElementFactory}.
+ */
+public class IEEE1516eHLAvariableArray<T extends DataElement>
+  extends IEEE1516eDataElementArray<T>
+  implements HLAvariableArray<T>
+{
+  protected final DataElementFactory<T> dataElementFactory;
+
+  @SafeVarargs
+  @SuppressWarnings("varargs") // the elements are copied into an array of their own
+  public IEEE1516eHLAvariableArray(DataElementFactory<T> dataElementFactory, T... dataElements)
+  {
+    super(Arrays.copyOf(dataElements, dataElements.length, DataElement[].class));
+
+    this.dataElementFactory = dataElementFactory;
+  }
+
+  public void addElement(T dataElement)
+  {
+    add(dataElement);
+  }
+
+  public void resize(int newSize)
+  {
+    if (!ensureElements(newSize))
+    {
+      throw new IllegalStateException(I18n.getMessage(ExceptionMessages.NO_DATA_ELEMENT_FACTORY, newSize));
+    }
+    size = newSize;
+  }
+
+  public int getOctetBoundary()
+  {
+    // the elements of an array are all of the same type so any element, even a spare one, determines the octet
+    // boundary, which must not depend upon the number of elements
+    //
+    return dataElements.length == 0 || dataElements[0] == null ? 4 : Math.max(4, dataElements[0].getOctetBoundary());
+  }
+
+  public int getEncodedLength()
+  {
+    return getEncodedLength(4);
+  }
+
+  protected void encodeTo(ByteWrapper byteWrapper)
+    throws EncoderException
+  {
+    byteWrapper.align(getOctetBoundary());
+    putInt32BE(byteWrapper, size);
+    encodeElements(byteWrapper);
+  }
+
+  protected void decodeFrom(ByteWrapper byteWrapper)
+    throws DecoderException
+  {
+    // make sure there is an element to determine the octet boundary from
+    //
+    ensureElements(1);
+
+    byteWrapper.align(getOctetBoundary());
+
+    int count = getCount(byteWrapper, 1);
+    if (!ensureElements(count))
+    {
+      throw new DecoderException(I18n.getMessage(ExceptionMessages.NO_DATA_ELEMENT_FACTORY, count));
+    }
+    size = count;
+
+    decodeElements(byteWrapper);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean equals(Object rhs)
+  {
+    return rhs instanceof HLAvariableArray &&
+           elementsEqual((HLAvariableArray<DataElement>) rhs, ((HLAvariableArray) rhs).size());
+  }
+
+  /**
+   * Ensures there are at least the specified number of elements, either spare or created by the factory.
+   *
+   * @return {@code false} if elements are needed but there is no factory to create them
+   */
+  private boolean ensureElements(int count)
+  {
+    boolean ensured = count <= dataElements.length && (count == 0 || dataElements[count - 1] != null);
+    if (!ensured && dataElementFactory != null)
+    {
+      if (count > dataElements.length)
+      {
+        dataElements = Arrays.copyOf(dataElements, Math.max(count, dataElements.length * 2));
+      }
+
+      for (int i = size; i < count; i++)
+      {
+        if (dataElements[i] == null)
+        {
+          dataElements[i] = dataElementFactory.createElement(i);
+        }
+      }
+
+      ensured = true;
+    }
+    return ensured;
+  }
+}
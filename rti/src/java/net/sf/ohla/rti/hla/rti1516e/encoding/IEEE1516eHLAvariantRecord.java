@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.hla.rti1516e.encoding;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.sf.ohla.rti.i18n.ExceptionMessages;
+import net.sf.ohla.rti.i18n.I18n;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.DataElement;
+import hla.rti1516e.encoding.DecoderException;
+import hla.rti1516e.encoding.EncoderException;
+import hla.rti1516e.encoding.HLAvariantRecord;
+
+/**
+ * A variant record. The discriminant it was created with is only used to decode discriminants into, so it must not
+ * be used to associate a variant with.
+ */
+public class IEEE1516eHLAvariantRecord<T extends DataElement>
+  extends IEEE1516eDataElement
+  implements HLAvariantRecord<T>
+{
+  protected final T decodedDiscriminant;
+
+  protected final Map<T, Variant<T>> variants = new HashMap<>();
+
+  protected Variant<T> variant;
+
+  public IEEE1516eHLAvariantRecord(T discriminant)
+  {
+    decodedDiscriminant = discriminant;
+
+    variant = new Variant<>(discriminant, null);
+  }
+
+  public void setVariant(T discriminant, DataElement dataElement)
+  {
+    variants.put(discriminant, new Variant<>(discriminant, dataElement));
+  }
+
+  public void setDiscriminant(T discriminant)
+  {
+    variant = variants.get(discriminant);
+    if (variant == null)
+    {
+      variant = new Variant<>(discriminant, null);
+    }
+  }
+
+  public T getDiscriminant()
+  {
+    return variant.discriminant;
+  }
+
+  public DataElement getValue()
+  {
+    return variant.dataElement;
+  }
+
+  public int getOctetBoundary()
+  {
+    int octetBoundary = decodedDiscriminant.getOctetBoundary();
+    for (Variant<T> variant : variants.values())
+    {
+      if (variant.dataElement != null)
+      {
+        octetBoundary = Math.max(octetBoundary, variant.dataElement.getOctetBoundary());
+      }
+    }
+    return octetBoundary;
+  }
+
+  public int getEncodedLength()
+  {
+    int length = variant.discriminant.getEncodedLength();
+    if (variant.dataElement != null)
+    {
+      length += padding(length, variant.dataElement.getOctetBoundary()) + variant.dataElement.getEncodedLength();
+    }
+    return length;
+  }
+
+  protected void encodeTo(ByteWrapper byteWrapper)
+    throws EncoderException
+  {
+    byteWrapper.align(getOctetBoundary());
+    variant.discriminant.encode(byteWrapper);
+    if (variant.dataElement != null)
+    {
+      variant.dataElement.encode(byteWrapper);
+    }
+  }
+
+  protected void decodeFrom(ByteWrapper byteWrapper)
+    throws DecoderException
+  {
+    byteWrapper.align(getOctetBoundary());
+    decodedDiscriminant.decode(byteWrapper);
+
+    Variant<T> variant = variants.get(decodedDiscriminant);
+    if (variant == null)
+    {
+      throw new DecoderException(I18n.getMessage(ExceptionMessages.UNKNOWN_DISCRIMINANT, decodedDiscriminant));
+    }
+    this.variant = variant;
+
+    if (variant.dataElement != null)
+    {
+      variant.dataElement.decode(byteWrapper);
+    }
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return variant.discriminant.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object rhs)
+  {
+    boolean equals = rhs instanceof HLAvariantRecord;
+    if (equals)
+    {
+      HLAvariantRecord<?> variantRecord = (HLAvariantRecord<?>) rhs;
+      equals = variant.discriminant.equals(variantRecord.getDiscriminant()) &&
+               (variant.dataElement == null ? variantRecord.getValue() == null :
+                  variant.dataElement.equals(variantRecord.getValue()));
+    }
+    return equals;
+  }
+
+  @Override
+  public String toString()
+  {
+    return variant.discriminant + ": " + variant.dataElement;
+  }
+
+  protected static class Variant<T extends DataElement>
+  {
+    protected final T discriminant;
+    protected final DataElement dataElement;
+
+    protected Variant(T discriminant, DataElement dataElement)
+    {
+      this.discriminant = discriminant;
+      this.dataElement = dataElement;
+    }
+  }
+}
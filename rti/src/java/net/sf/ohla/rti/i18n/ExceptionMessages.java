@@ -148,6 +148,10 @@ public enum ExceptionMessages
   ENCODE_BUFFER_IS_TOO_SHORT,
   DECODE_BUFFER_IS_NULL,
   DECODE_BUFFER_IS_TOO_SHORT,
+  DECODE_BUFFER_UNDERFLOW,
+  INVALID_ELEMENT_COUNT,
+  NO_DATA_ELEMENT_FACTORY,
+  UNKNOWN_DISCRIMINANT,
 
   INVALID_REGION,
 
@@ -294,5 +298,18 @@ public enum ExceptionMessages
 
   OBJECT_ALREADY_REGISTERED,
 
-  REGION_NOT_KNOWN_DELETE_TEMPORARY_REGION
+  REGION_NOT_KNOWN_DELETE_TEMPORARY_REGION,
+
+  INVALID_SHARED_MEMORY,
+  INVALID_SHARED_MEMORY_CAPACITY,
+  SHARED_MEMORY_NOT_SUPPORTED,
+  SHARED_MEMORY_NOT_LOCAL,
+  SHARED_MEMORY_OUTSIDE_DIRECTORY,
+
+  BROKEN_FEDERATION_SAVE_CHAIN,
+  INVALID_FEDERATION_SAVE_INTERVAL,
+  FEDERATION_SAVE_NOT_SUPPORTED_WITH_DISTRIBUTED_TIME_MANAGEMENT,
+  OBJECT_MANAGEMENT_NOT_SUPPORTED_WITH_OPTIMISTIC_TIME_MANAGEMENT,
+
+  INVALID_FRAME_LENGTH
 }
@@ -31,6 +31,7 @@ public enum LogMessages
 
   UPDATE_ATTRIBUTE_VALUES_WITH_NULL_ATTRIBUTE_VALUES,
   UPDATE_ATTRIBUTE_VALUES_WITH_EMPTY_ATTRIBUTE_VALUES,
+  UPDATE_ATTRIBUTE_VALUES_BATCH_WITH_NULL_ATTRIBUTE_VALUES,
 
   SEND_INTERACTION_WITH_NULL_PARAMETER_VALUES,
   SEND_INTERACTION_WITH_EMPTY_PARAMETER_VALUES,
@@ -69,6 +70,8 @@ public enum LogMessages
   GALT_UPDATED,
 
   LOTS_UPDATED,
+  TIME_STAMP_ORDERED_MESSAGE_BELOW_GALT,
+  ROLLING_BACK,
 
   ERROR_INVOKING_CALLBACK,
 
@@ -110,6 +113,22 @@ public enum LogMessages
   FEDERATE_JOINED,
   FEDERATE_RESIGNED,
 
+  FEDERATE_OUTBOUND_QUEUE_OVERLOADED,
+  FEDERATE_OUTBOUND_QUEUE_RECOVERED,
+  FEDERATE_OUTBOUND_QUEUE_SPILLING,
+  FEDERATE_OUTBOUND_QUEUE_SPILL_FAILED,
+  FEDERATE_OUTBOUND_QUEUE_DISCONNECTING,
+  INVALID_OUTBOUND_QUEUE_PROPERTY,
+
+  DROPPING_DATAGRAM,
+  UNABLE_TO_BIND_DATAGRAM_TRANSPORT,
+  UNABLE_TO_JOIN_DATAGRAM_GROUP,
+  INVALID_DATAGRAM_PROPERTY,
+
+  SHARED_MEMORY_OPENED,
+  UNABLE_TO_OPEN_SHARED_MEMORY,
+  UNABLE_TO_CREATE_SHARED_MEMORY,
+
   TIME_REGULATION_ENABLED,
   TIME_REGULATION_DISABLED,
 
@@ -133,6 +152,7 @@ public enum LogMessages
 
   FEDERATION_EXECUTION_CREATED,
   FEDERATION_EXECUTION_DESTROYED,
+  INVALID_FEDERATION_EXECUTION_CORES,
 
   REGISTER_FEDERATION_SYNCHRONIZATION_POINT_LABEL_NOT_UNIQUE,
   REGISTER_FEDERATION_SYNCHRONIZATION_POINT_SYNCHRONIZATION_SET_MEMBER_NOT_JOINED,
@@ -149,6 +169,11 @@ public enum LogMessages
 
   UNABLE_TO_INITIATE_FEDERATION_SAVE,
   UNABLE_TO_INITIATE_FEDERATE_SAVE,
+  UNABLE_TO_COMPACT_FEDERATION_SAVE,
+  UNABLE_TO_COMPLETE_FEDERATION_SAVE,
+  UNABLE_TO_DELETE_FEDERATION_SAVE,
+  UNABLE_TO_INITIATE_FEDERATION_RESTORE,
+  UNABLE_TO_EXECUTE_SAVED_FEDERATION_EXECUTION_MESSAGES,
 
   UNABLE_TO_SAVE_FEDERATE_STATE,
   UNABLE_TO_RESTORE_FEDERATE_STATE,
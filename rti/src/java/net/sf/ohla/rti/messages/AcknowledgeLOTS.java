@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.sf.ohla.rti.messages;
+
+import java.io.IOException;
+
+import net.sf.ohla.rti.util.FederateHandles;
+import net.sf.ohla.rti.util.LogicalTimes;
+import net.sf.ohla.rti.federation.FederateProxy;
+import net.sf.ohla.rti.federation.FederationExecution;
+import net.sf.ohla.rti.messages.proto.FederationExecutionMessageProtos;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+
+import com.google.protobuf.CodedInputStream;
+import hla.rti1516e.FederateHandle;
+import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactory;
+
+/**
+ * The answer of a time constrained federate to the LOTS of a federate becoming time regulating under distributed time
+ * management. Carries the least time the time constrained federate could still receive a message at.
+ */
+public class AcknowledgeLOTS
+  extends AbstractMessage<FederationExecutionMessageProtos.AcknowledgeLOTS, FederationExecutionMessageProtos.AcknowledgeLOTS.Builder>
+  implements FederationExecutionMessage
+{
+  private LogicalTime lits;
+
+  public AcknowledgeLOTS(
+    FederateHandle timeRegulatingFederateHandle, LogicalTimeFactory logicalTimeFactory, LogicalTime lits)
+  {
+    super(FederationExecutionMessageProtos.AcknowledgeLOTS.newBuilder());
+
+    this.lits = lits;
+
+    builder.setTimeRegulatingFederateHandle(FederateHandles.convert(timeRegulatingFederateHandle));
+    builder.setLits(LogicalTimes.convert(logicalTimeFactory, lits));
+  }
+
+  public AcknowledgeLOTS(CodedInputStream in)
+    throws IOException
+  {
+    super(FederationExecutionMessageProtos.AcknowledgeLOTS.newBuilder(), in);
+  }
+
+  public FederateHandle getTimeRegulatingFederateHandle()
+  {
+    return FederateHandles.convert(builder.getTimeRegulatingFederateHandle());
+  }
+
+  public LogicalTime getLITS()
+  {
+    return lits;
+  }
+
+  @Override
+  public MessageProtos.MessageType getMessageType()
+  {
+    return MessageProtos.MessageType.ACKNOWLEDGE_LOTS;
+  }
+
+  @Override
+  public void execute(FederationExecution federationExecution, FederateProxy federateProxy)
+  {
+    lits = LogicalTimes.convert(federationExecution.getTimeManager().getLogicalTimeFactory(), builder.getLits());
+
+    federationExecution.acknowledgeLOTS(federateProxy, this);
+  }
+}
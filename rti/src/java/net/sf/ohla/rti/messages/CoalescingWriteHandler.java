@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.messages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.jboss.netty.channel.ChannelDownstreamHandler;
+import org.jboss.netty.channel.ChannelEvent;
+import org.jboss.netty.channel.ChannelFuture;
+import org.jboss.netty.channel.ChannelFutureListener;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.Channels;
+import org.jboss.netty.channel.MessageEvent;
+
+/**
+ * Coalesces the encoded messages written to a channel into gathering writes. Writes are queued and flushed by a task
+ * run in the channel's I/O thread, every message written before the task gets to run goes out in the same write.
+ */
+public class CoalescingWriteHandler
+  implements ChannelDownstreamHandler
+{
+  public static final String NAME = CoalescingWriteHandler.class.getSimpleName();
+
+  /**
+   * The most bytes gathered into a single write.
+   */
+  private static final int MAX_COALESCED_BYTES = 256 * 1024;
+
+  /**
+   * The most buffers gathered into a single write, the operating system limits how many buffers a write can take.
+   */
+  private static final int MAX_COALESCED_BUFFERS = 256;
+
+  private final Queue<MessageEvent> writes = new ConcurrentLinkedQueue<>();
+
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+  private boolean flushing;
+
+  public void handleDownstream(final ChannelHandlerContext context, ChannelEvent event)
+  {
+    if (event instanceof MessageEvent)
+    {
+      assert ((MessageEvent) event).getMessage() instanceof ChannelBuffer;
+
+      writes.offer((MessageEvent) event);
+
+      if (flushScheduled.compareAndSet(false, true))
+      {
+        context.getPipeline().execute(new Runnable()
+        {
+          public void run()
+          {
+            // clear the flag first, anything written after this point is either flushed now or schedules another flush
+            //
+            flushScheduled.set(false);
+
+            flush(context);
+          }
+        });
+      }
+    }
+    else
+    {
+      // pending writes must go out before the channel is closed, disconnected or unbound
+      //
+      flush(context);
+
+      context.sendDownstream(event);
+    }
+  }
+
+  /**
+   * Writes everything queued. A write completing on the I/O thread can queue, and flush, more writes from within
+   * this method, those are left to the flush already in progress so they go out in order.
+   */
+  private synchronized void flush(ChannelHandlerContext context)
+  {
+    if (!flushing)
+    {
+      flushing = true;
+      try
+      {
+        for (MessageEvent write = writes.poll(); write != null; write = writes.poll())
+        {
+          MessageEvent next = writes.peek();
+          if (next == null)
+          {
+            // nothing to coalesce with
+            //
+            context.sendDownstream(write);
+          }
+          else
+          {
+            List<ChannelBuffer> buffers = new ArrayList<>();
+            List<ChannelFuture> futures = new ArrayList<>();
+
+            buffers.add((ChannelBuffer) write.getMessage());
+            futures.add(write.getFuture());
+
+            int coalescedBytes = buffers.get(0).readableBytes();
+            for (; next != null && buffers.size() < MAX_COALESCED_BUFFERS &&
+                   coalescedBytes + ((ChannelBuffer) next.getMessage()).readableBytes() <= MAX_COALESCED_BYTES;
+                 next = writes.peek())
+            {
+              writes.poll();
+
+              ChannelBuffer buffer = (ChannelBuffer) next.getMessage();
+
+              buffers.add(buffer);
+              futures.add(next.getFuture());
+
+              coalescedBytes += buffer.readableBytes();
+            }
+
+            write(context, buffers, futures);
+          }
+        }
+      }
+      finally
+      {
+        flushing = false;
+      }
+    }
+  }
+
+  private void write(ChannelHandlerContext context, List<ChannelBuffer> buffers, final List<ChannelFuture> futures)
+  {
+    ChannelFuture future = Channels.future(context.getChannel());
+    future.addListener(new ChannelFutureListener()
+    {
+      public void operationComplete(ChannelFuture future)
+      {
+        if (future.isSuccess())
+        {
+          for (ChannelFuture f : futures)
+          {
+            f.setSuccess();
+          }
+        }
+        else
+        {
+          for (ChannelFuture f : futures)
+          {
+            f.setFailure(future.getCause());
+          }
+        }
+      }
+    });
+
+    Channels.write(
+      context, future, ChannelBuffers.wrappedBuffer(true, buffers.toArray(new ChannelBuffer[buffers.size()])));
+  }
+}
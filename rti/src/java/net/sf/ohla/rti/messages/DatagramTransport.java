@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.sf.ohla.rti.messages;
+
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketAddress;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.sf.ohla.rti.i18n.I18nLogger;
+import net.sf.ohla.rti.i18n.LogMessages;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+
+import org.jboss.netty.bootstrap.ConnectionlessBootstrap;
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelFuture;
+import org.jboss.netty.channel.ChannelFutureListener;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.ChannelPipeline;
+import org.jboss.netty.channel.ChannelPipelineFactory;
+import org.jboss.netty.channel.Channels;
+import org.jboss.netty.channel.ExceptionEvent;
+import org.jboss.netty.channel.FixedReceiveBufferSizePredictorFactory;
+import org.jboss.netty.channel.MessageEvent;
+import org.jboss.netty.channel.SimpleChannelUpstreamHandler;
+import org.jboss.netty.channel.socket.DatagramChannel;
+import org.jboss.netty.channel.socket.InternetProtocolFamily;
+import org.jboss.netty.channel.socket.nio.NioDatagramChannelFactory;
+
+/**
+ * Sends and receives {@code HLAbestEffort} messages as datagrams, one message per datagram framed the same way as on
+ * a reliable channel. A message received from a peer is delivered through the peer's reliable channel as though it
+ * had been received on it, so it is handled exactly like a message received reliably. The reliable channels remain
+ * the control plane; messages too large for a datagram are left to them.
+ */
+public class DatagramTransport
+{
+  /**
+   * The largest datagram sent by default, the largest that fits an Ethernet frame without fragmenting.
+   */
+  public static final int DEFAULT_MAX_DATAGRAM_SIZE = 1472;
+
+  private static final int RECEIVE_BUFFER_SIZE = 64 * 1024;
+
+  private static final I18nLogger log = I18nLogger.getLogger(DatagramTransport.class);
+
+  private final NetworkInterface networkInterface;
+  private final int maxDatagramSize;
+  private final Set<MessageProtos.MessageType> acceptedMessageTypes;
+
+  private final MessageEncoder messageEncoder = new MessageEncoder();
+
+  private final ExecutorService workerExecutor = Executors.newCachedThreadPool();
+  private final NioDatagramChannelFactory channelFactory;
+  private final Map<InternetProtocolFamily, NioDatagramChannelFactory> groupChannelFactories = new HashMap<>();
+
+  private final DatagramChannel datagramChannel;
+
+  /**
+   * The reliable channel of each peer, by the address the peer sends datagrams from.
+   */
+  private final ConcurrentMap<SocketAddress, Channel> peers = new ConcurrentHashMap<>();
+
+  private final Map<String, InetSocketAddress> groupsByClassName = new ConcurrentHashMap<>();
+  private final Map<InetSocketAddress, DatagramChannel> groupChannels = new HashMap<>();
+
+  private final AtomicLong droppedMessages = new AtomicLong();
+  private final AtomicLong receivedMessages = new AtomicLong();
+
+  /**
+   * Creates a {@code DatagramTransport} bound to the specified address.
+   *
+   * @param localAddress the address to receive datagrams on
+   * @param networkInterface the interface multicast groups are sent to and joined on
+   * @param maxDatagramSize the largest datagram to send
+   * @param acceptedMessageTypes the types of message accepted from peers, anything else is dropped
+   */
+  public DatagramTransport(
+    InetSocketAddress localAddress, NetworkInterface networkInterface, int maxDatagramSize,
+    Set<MessageProtos.MessageType> acceptedMessageTypes)
+  {
+    this.networkInterface = networkInterface;
+    this.maxDatagramSize = maxDatagramSize;
+    this.acceptedMessageTypes = acceptedMessageTypes;
+
+    channelFactory = new NioDatagramChannelFactory(workerExecutor);
+
+    datagramChannel = bind(channelFactory, localAddress, null);
+    if (networkInterface != null)
+    {
+      datagramChannel.getConfig().setNetworkInterface(networkInterface);
+    }
+  }
+
+  public InetSocketAddress getLocalAddress()
+  {
+    return datagramChannel.getLocalAddress();
+  }
+
+  public NetworkInterface getNetworkInterface()
+  {
+    return networkInterface;
+  }
+
+  /**
+   * Returns the number of messages dropped because they could not be sent without waiting.
+   */
+  public long getDroppedMessages()
+  {
+    return droppedMessages.get();
+  }
+
+  /**
+   * Returns the number of messages received from peers and groups and delivered through their reliable channels.
+   */
+  public long getReceivedMessages()
+  {
+    return receivedMessages.get();
+  }
+
+  /**
+   * Accepts datagrams from the specified address, delivering them through the specified reliable channel until it is
+   * closed.
+   */
+  public void addPeer(final SocketAddress address, final Channel channel)
+  {
+    peers.put(address, channel);
+
+    channel.getCloseFuture().addListener(new ChannelFutureListener()
+    {
+      public void operationComplete(ChannelFuture future)
+      {
+        peers.remove(address, channel);
+      }
+    });
+  }
+
+  /**
+   * Assigns a multicast group to the named object or interaction class and its subclasses.
+   */
+  public void setGroup(String className, InetSocketAddress group)
+  {
+    groupsByClassName.put(className, group);
+  }
+
+  /**
+   * Returns the multicast group assigned to the named class, or {@code null} if none is.
+   */
+  public InetSocketAddress getGroup(String className)
+  {
+    return groupsByClassName.get(className);
+  }
+
+  public Collection<InetSocketAddress> getGroups()
+  {
+    return new LinkedHashSet<>(groupsByClassName.values());
+  }
+
+  /**
+   * Joins the specified multicast group, the messages sent to the group are delivered through the specified reliable
+   * channel.
+   */
+  public synchronized void joinGroup(InetSocketAddress group, Channel channel)
+  {
+    if (!groupChannels.containsKey(group))
+    {
+      InternetProtocolFamily family =
+        group.getAddress() instanceof Inet6Address ? InternetProtocolFamily.IPv6 : InternetProtocolFamily.IPv4;
+
+      NioDatagramChannelFactory groupChannelFactory = groupChannelFactories.get(family);
+      if (groupChannelFactory == null)
+      {
+        groupChannelFactory = new NioDatagramChannelFactory(workerExecutor, family);
+        groupChannelFactories.put(family, groupChannelFactory);
+      }
+
+      DatagramChannel groupChannel = bind(groupChannelFactory, new InetSocketAddress(group.getPort()), channel);
+      groupChannels.put(group, groupChannel);
+
+      ChannelFuture future = groupChannel.joinGroup(group, networkInterface).awaitUninterruptibly();
+      if (!future.isSuccess())
+      {
+        log.warn(LogMessages.UNABLE_TO_JOIN_DATAGRAM_GROUP, future.getCause(), group, networkInterface);
+      }
+    }
+  }
+
+  /**
+   * Sends the specified message to the specified address, or group, unless it is too large for a datagram. The
+   * message is dropped rather than waiting when the datagram cannot be sent right away.
+   *
+   * @return {@code false} if the message is too large for a datagram and must be sent reliably
+   */
+  public boolean write(Message message, SocketAddress address)
+  {
+    boolean written;
+
+    ChannelBuffer frame;
+    try
+    {
+      frame = messageEncoder.encode(message);
+    }
+    catch (IOException ioe)
+    {
+      frame = null;
+    }
+
+    if (frame == null || frame.readableBytes() > maxDatagramSize)
+    {
+      written = false;
+    }
+    else
+    {
+      if (datagramChannel.isWritable())
+      {
+        datagramChannel.write(frame, address);
+      }
+      else
+      {
+        droppedMessages.incrementAndGet();
+      }
+
+      written = true;
+    }
+    return written;
+  }
+
+  public synchronized void close()
+  {
+    datagramChannel.close().awaitUninterruptibly();
+
+    for (DatagramChannel groupChannel : groupChannels.values())
+    {
+      groupChannel.close().awaitUninterruptibly();
+    }
+    groupChannels.clear();
+
+    channelFactory.releaseExternalResources();
+    for (NioDatagramChannelFactory groupChannelFactory : groupChannelFactories.values())
+    {
+      groupChannelFactory.releaseExternalResources();
+    }
+  }
+
+  private DatagramChannel bind(NioDatagramChannelFactory channelFactory, SocketAddress localAddress, Channel peer)
+  {
+    final DatagramHandler datagramHandler = new DatagramHandler(peer);
+
+    ConnectionlessBootstrap bootstrap = new ConnectionlessBootstrap(channelFactory);
+    bootstrap.setOption("reuseAddress", peer != null);
+    bootstrap.setOption("receiveBufferSizePredictorFactory", new FixedReceiveBufferSizePredictorFactory(
+      RECEIVE_BUFFER_SIZE));
+    bootstrap.setPipelineFactory(new ChannelPipelineFactory()
+    {
+      public ChannelPipeline getPipeline()
+      {
+        return Channels.pipeline(datagramHandler);
+      }
+    });
+
+    return (DatagramChannel) bootstrap.bind(localAddress);
+  }
+
+  /**
+   * Decodes the messages in each datagram and delivers them through the reliable channel of the peer that sent them,
+   * or of the group they were sent to.
+   */
+  private class DatagramHandler
+    extends SimpleChannelUpstreamHandler
+  {
+    private final Channel groupPeer;
+
+    private DatagramHandler(Channel groupPeer)
+    {
+      this.groupPeer = groupPeer;
+    }
+
+    @Override
+    public void messageReceived(ChannelHandlerContext context, MessageEvent event)
+    {
+      Channel peer = groupPeer == null ? peers.get(event.getRemoteAddress()) : groupPeer;
+      if (peer == null)
+      {
+        log.trace(LogMessages.DROPPING_DATAGRAM, event.getRemoteAddress());
+      }
+      else
+      {
+        ChannelBuffer buffer = (ChannelBuffer) event.getMessage();
+        while (buffer.readableBytes() > MessageDecoder.LENGTH_FIELD_LENGTH)
+        {
+          int length = buffer.readInt();
+          if (length < 0 || length > buffer.readableBytes())
+          {
+            // corrupt or truncated
+            //
+            log.trace(LogMessages.DROPPING_DATAGRAM, event.getRemoteAddress());
+
+            buffer.skipBytes(buffer.readableBytes());
+          }
+          else
+          {
+            Message message = Messages.parseFrom(buffer, buffer.readerIndex(), length);
+            buffer.skipBytes(length);
+
+            if (acceptedMessageTypes.contains(message.getMessageType()))
+            {
+              receivedMessages.incrementAndGet();
+
+              // deliver it as though the peer's reliable channel had decoded it
+              //
+              Channels.fireMessageReceived(peer.getPipeline().getContext(MessageDecoder.NAME), message);
+            }
+            else
+            {
+              log.trace(LogMessages.DROPPING_DATAGRAM, event.getRemoteAddress());
+            }
+          }
+        }
+      }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext context, ExceptionEvent event)
+    {
+      log.debug(LogMessages.UNHANDLED_EXCEPTION, event.getCause(), event.getCause());
+    }
+  }
+}
@@ -55,12 +55,12 @@ public class DeleteObjectInstance
   }
 
   public DeleteObjectInstance(
-    ObjectInstanceHandle objectInstanceHandle, byte[] tag, OrderType sentOrderType, LogicalTime time,
-    MessageRetractionHandle messageRetractionHandle)
+    ObjectInstanceHandle objectInstanceHandle, byte[] tag, OrderType sentOrderType, LogicalTimeFactory logicalTimeFactory,
+    LogicalTime time, MessageRetractionHandle messageRetractionHandle)
   {
     this(objectInstanceHandle, tag, OrderTypes.convert(sentOrderType));
 
-    builder.setTime(LogicalTimes.convert(time));
+    builder.setTime(LogicalTimes.convert(logicalTimeFactory, time));
     builder.setMessageRetractionHandle(MessageRetractionHandles.convert(messageRetractionHandle));
   }
 
@@ -19,12 +19,15 @@ package net.sf.ohla.rti.messages;
 import java.io.IOException;
 
 import net.sf.ohla.rti.util.LogicalTimeIntervals;
+import net.sf.ohla.rti.util.LogicalTimes;
 import net.sf.ohla.rti.federation.FederateProxy;
 import net.sf.ohla.rti.federation.FederationExecution;
 import net.sf.ohla.rti.messages.proto.FederationExecutionMessageProtos;
 import net.sf.ohla.rti.messages.proto.MessageProtos;
 
 import com.google.protobuf.CodedInputStream;
+import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactory;
 import hla.rti1516e.LogicalTimeInterval;
 import hla.rti1516e.exceptions.CouldNotEncode;
 
@@ -33,15 +36,30 @@ public class EnableTimeRegulation
   implements FederationExecutionMessage
 {
   private LogicalTimeInterval lookahead;
+  private LogicalTime time;
 
-  public EnableTimeRegulation(LogicalTimeInterval lookahead)
+  public EnableTimeRegulation(LogicalTimeFactory logicalTimeFactory, LogicalTimeInterval lookahead)
     throws CouldNotEncode
   {
     super(FederationExecutionMessageProtos.EnableTimeRegulation.newBuilder());
 
     this.lookahead = lookahead;
 
-    builder.setLookahead(LogicalTimeIntervals.convert(lookahead));
+    builder.setLookahead(LogicalTimeIntervals.convert(logicalTimeFactory, lookahead));
+  }
+
+  /**
+   * Creates an {@code EnableTimeRegulation} that also carries the federate's time, the RTI does not follow the time of
+   * the federates under distributed time management.
+   */
+  public EnableTimeRegulation(LogicalTimeFactory logicalTimeFactory, LogicalTimeInterval lookahead, LogicalTime time)
+    throws CouldNotEncode
+  {
+    this(logicalTimeFactory, lookahead);
+
+    this.time = time;
+
+    builder.setTime(LogicalTimes.convert(logicalTimeFactory, time));
   }
 
   public EnableTimeRegulation(CodedInputStream in)
@@ -55,6 +73,14 @@ public class EnableTimeRegulation
     return lookahead;
   }
 
+  /**
+   * Returns the federate's time, or {@code null} if it was not sent.
+   */
+  public LogicalTime getTime()
+  {
+    return time;
+  }
+
   @Override
   public MessageProtos.MessageType getMessageType()
   {
@@ -67,6 +93,11 @@ public class EnableTimeRegulation
     lookahead = LogicalTimeIntervals.convert(
       federationExecution.getTimeManager().getLogicalTimeFactory(), builder.getLookahead());
 
+    if (builder.hasTime())
+    {
+      time = LogicalTimes.convert(federationExecution.getTimeManager().getLogicalTimeFactory(), builder.getTime());
+    }
+
     federationExecution.enableTimeRegulation(federateProxy, this);
   }
 }
@@ -18,6 +18,8 @@ package net.sf.ohla.rti.messages;
 
 import java.io.IOException;
 
+import java.nio.ByteBuffer;
+
 import net.sf.ohla.rti.federate.Federate;
 import net.sf.ohla.rti.federation.FederateProxy;
 import net.sf.ohla.rti.federation.FederationExecution;
@@ -38,6 +40,14 @@ public class FederateStateFrame
     builder.setLast(last);
   }
 
+  public FederateStateFrame(ByteBuffer buffer, boolean last)
+  {
+    super(MessageProtos.FederateStateFrame.newBuilder());
+
+    builder.setPayload(ByteString.copyFrom(buffer));
+    builder.setLast(last);
+  }
+
   public FederateStateFrame(CodedInputStream in)
     throws IOException
   {
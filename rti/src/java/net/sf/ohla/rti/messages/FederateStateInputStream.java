@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.messages;
+
+import java.io.InputStream;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * The receiving end of a {@link FederateStateOutputStream}. Frames are read as they arrive straight out of their
+ * payloads, reads block until the next frame has been {@link #add(FederateStateFrame) added}.
+ */
+public class FederateStateInputStream
+  extends InputStream
+{
+  /**
+   * Follows the payload of the last frame.
+   */
+  private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+  private final BlockingQueue<ByteBuffer> frames = new LinkedBlockingQueue<>();
+
+  private ByteBuffer frame = ByteBuffer.allocate(0);
+
+  private boolean last;
+
+  public void add(FederateStateFrame federateStateFrame)
+  {
+    frames.add(federateStateFrame.getPayload().asReadOnlyByteBuffer());
+
+    if (federateStateFrame.isLast())
+    {
+      frames.add(END);
+    }
+  }
+
+  @Override
+  public int read()
+  {
+    return hasRemaining() ? frame.get() & 0xff : -1;
+  }
+
+  @Override
+  public int read(byte[] b, int offset, int length)
+  {
+    int bytesRead;
+    if (length == 0)
+    {
+      bytesRead = 0;
+    }
+    else if (hasRemaining())
+    {
+      bytesRead = Math.min(length, frame.remaining());
+      frame.get(b, offset, bytesRead);
+    }
+    else
+    {
+      bytesRead = -1;
+    }
+    return bytesRead;
+  }
+
+  @Override
+  public int available()
+  {
+    return frame.remaining();
+  }
+
+  private boolean hasRemaining()
+  {
+    while (!frame.hasRemaining() && !last)
+    {
+      frame = Uninterruptibles.takeUninterruptibly(frames);
+      last = frame == END;
+    }
+    return frame.hasRemaining();
+  }
+}
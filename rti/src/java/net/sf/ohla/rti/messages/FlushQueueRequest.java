@@ -10,6 +10,7 @@ import net.sf.ohla.rti.messages.proto.MessageProtos;
 
 import com.google.protobuf.CodedInputStream;
 import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactory;
 import hla.rti1516e.exceptions.CouldNotEncode;
 
 public class FlushQueueRequest
@@ -18,14 +19,14 @@ public class FlushQueueRequest
 {
   private LogicalTime time;
 
-  public FlushQueueRequest(LogicalTime time)
+  public FlushQueueRequest(LogicalTimeFactory logicalTimeFactory, LogicalTime time)
     throws CouldNotEncode
   {
     super(FederationExecutionMessageProtos.FlushQueueRequest.newBuilder());
 
     this.time = time;
 
-    builder.setTime(LogicalTimes.convert(time));
+    builder.setTime(LogicalTimes.convert(logicalTimeFactory, time));
   }
 
   public FlushQueueRequest(CodedInputStream in)
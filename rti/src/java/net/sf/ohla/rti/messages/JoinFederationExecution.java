@@ -39,6 +39,17 @@ public class JoinFederationExecution
 
   public JoinFederationExecution(
     String federateName, String federateType, String federationExecutionName, List<FDD> additionalFDDs)
+  {
+    this(federateName, federateType, federationExecutionName, additionalFDDs, 0);
+  }
+
+  /**
+   * Creates a {@code JoinFederationExecution} for a federate that receives {@code HLAbestEffort} messages as datagrams
+   * on the specified port, or not at all if the port is 0.
+   */
+  public JoinFederationExecution(
+    String federateName, String federateType, String federationExecutionName, List<FDD> additionalFDDs,
+    int datagramPort)
   {
     super(RTIMessageProtos.JoinFederationExecution.newBuilder());
 
@@ -59,6 +70,11 @@ public class JoinFederationExecution
         builder.addAdditionalFDDs(fdd.toProto());
       }
     }
+
+    if (datagramPort != 0)
+    {
+      builder.setDatagramPort(datagramPort);
+    }
   }
 
   public JoinFederationExecution(CodedInputStream in)
@@ -82,6 +98,16 @@ public class JoinFederationExecution
     return builder.getFederationExecutionName();
   }
 
+  public boolean hasDatagramPort()
+  {
+    return builder.hasDatagramPort();
+  }
+
+  public int getDatagramPort()
+  {
+    return builder.getDatagramPort();
+  }
+
   public List<FDD> getAdditionalFDDs()
   {
     if (additionalFDDs == null)
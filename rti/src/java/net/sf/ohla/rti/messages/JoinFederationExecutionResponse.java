@@ -17,6 +17,10 @@
 package net.sf.ohla.rti.messages;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import net.sf.ohla.rti.util.FederateHandles;
 import net.sf.ohla.rti.fdd.FDD;
@@ -34,8 +38,13 @@ implements FederateMessage
 {
   private volatile FDD fdd;
 
+  /**
+   * @param distributedTimeManagement whether the federation execution uses distributed time management
+   * @param optimisticTimeManagement whether time constrained federates may advance optimistically
+   */
   public JoinFederationExecutionResponse(
-    String federateName, FederateHandle federateHandle, FDD fdd, String logicalTimeImplementationName)
+    String federateName, FederateHandle federateHandle, FDD fdd, String logicalTimeImplementationName,
+    boolean distributedTimeManagement, boolean optimisticTimeManagement)
   {
     super(FederateMessageProtos.JoinFederationExecutionResponse.newBuilder());
 
@@ -45,7 +54,36 @@ implements FederateMessage
       federateName).setFederateHandle(
       FederateHandles.convert(federateHandle)).setFdd(
       fdd.toProto()).setLogicalTimeImplementationName(
-      logicalTimeImplementationName));
+      logicalTimeImplementationName).setDistributedTimeManagement(
+      distributedTimeManagement).setOptimisticTimeManagement(
+      optimisticTimeManagement));
+  }
+
+  /**
+   * Creates a successful {@code JoinFederationExecutionResponse} for a federate that receives {@code HLAbestEffort}
+   * messages as datagrams.
+   *
+   * @param distributedTimeManagement whether the federation execution uses distributed time management
+   * @param optimisticTimeManagement whether time constrained federates may advance optimistically
+   * @param datagramPort the port the RTI receives datagrams on
+   * @param datagramGroups the multicast groups the federate should join
+   */
+  public JoinFederationExecutionResponse(
+    String federateName, FederateHandle federateHandle, FDD fdd, String logicalTimeImplementationName,
+    boolean distributedTimeManagement, boolean optimisticTimeManagement, int datagramPort,
+    Collection<InetSocketAddress> datagramGroups)
+  {
+    this(federateName, federateHandle, fdd, logicalTimeImplementationName, distributedTimeManagement,
+         optimisticTimeManagement);
+
+    FederateMessageProtos.JoinFederationExecutionResponse.Success.Builder success =
+      builder.getSuccessBuilder().setDatagramPort(datagramPort);
+    for (InetSocketAddress datagramGroup : datagramGroups)
+    {
+      success.addDatagramGroups(
+        FederateMessageProtos.JoinFederationExecutionResponse.DatagramGroup.newBuilder().setAddress(
+          datagramGroup.getAddress().getHostAddress()).setPort(datagramGroup.getPort()));
+    }
   }
 
   public JoinFederationExecutionResponse(FederateMessageProtos.JoinFederationExecutionResponse.Failure.Cause cause)
@@ -85,6 +123,37 @@ implements FederateMessage
     return builder.getSuccess().getLogicalTimeImplementationName();
   }
 
+  public boolean isDistributedTimeManagement()
+  {
+    return builder.getSuccess().getDistributedTimeManagement();
+  }
+
+  public boolean isOptimisticTimeManagement()
+  {
+    return builder.getSuccess().getOptimisticTimeManagement();
+  }
+
+  public boolean hasDatagramPort()
+  {
+    return builder.getSuccess().hasDatagramPort();
+  }
+
+  public int getDatagramPort()
+  {
+    return builder.getSuccess().getDatagramPort();
+  }
+
+  public List<InetSocketAddress> getDatagramGroups()
+  {
+    List<InetSocketAddress> datagramGroups = new ArrayList<>(builder.getSuccess().getDatagramGroupsCount());
+    for (FederateMessageProtos.JoinFederationExecutionResponse.DatagramGroup datagramGroup :
+      builder.getSuccess().getDatagramGroupsList())
+    {
+      datagramGroups.add(new InetSocketAddress(datagramGroup.getAddress(), datagramGroup.getPort()));
+    }
+    return datagramGroups;
+  }
+
   public FederateMessageProtos.JoinFederationExecutionResponse.Failure.Cause getCause()
   {
     return builder.getFailure().getCause();
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.sf.ohla.rti.messages;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.sf.ohla.rti.util.FederateHandles;
+import net.sf.ohla.rti.util.LogicalTimes;
+import net.sf.ohla.rti.federate.Federate;
+import net.sf.ohla.rti.messages.proto.FederateMessageProtos;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+
+import com.google.protobuf.CodedInputStream;
+import hla.rti1516e.FederateHandle;
+import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactory;
+
+/**
+ * Relays the LOTS of time regulating federates to a time constrained federate under distributed time management.
+ */
+public class LOTSUpdated
+  extends AbstractMessage<FederateMessageProtos.LOTSUpdated, FederateMessageProtos.LOTSUpdated.Builder>
+  implements FederateMessage
+{
+  /**
+   * The LOTS by time regulating federate, a {@code null} LOTS if the federate is no longer time regulating.
+   */
+  private Map<FederateHandle, LogicalTime> lots;
+
+  /**
+   * Built up front since the same message is written to every time constrained federate.
+   */
+  private FederateMessageProtos.LOTSUpdated lotsUpdated;
+
+  /**
+   * Relays the LOTS of a single time regulating federate.
+   *
+   * @param lots the LOTS, or {@code null} if the federate is no longer time regulating
+   * @param acknowledge whether the federate is becoming time regulating and waiting for an {@link AcknowledgeLOTS}
+   */
+  public LOTSUpdated(
+    FederateHandle federateHandle, LogicalTimeFactory logicalTimeFactory, LogicalTime lots, boolean acknowledge)
+  {
+    super(FederateMessageProtos.LOTSUpdated.newBuilder());
+
+    this.lots = new LinkedHashMap<>();
+    this.lots.put(federateHandle, lots);
+
+    builder.addLots(convert(federateHandle, logicalTimeFactory, lots));
+
+    if (acknowledge)
+    {
+      builder.setAcknowledge(true);
+    }
+
+    lotsUpdated = builder.build();
+  }
+
+  /**
+   * Relays the LOTS of every time regulating federate to a federate that became time constrained.
+   */
+  public LOTSUpdated(LogicalTimeFactory logicalTimeFactory, Map<FederateHandle, LogicalTime> lots)
+  {
+    super(FederateMessageProtos.LOTSUpdated.newBuilder());
+
+    this.lots = lots;
+
+    for (Map.Entry<FederateHandle, LogicalTime> entry : lots.entrySet())
+    {
+      builder.addLots(convert(entry.getKey(), logicalTimeFactory, entry.getValue()));
+    }
+
+    builder.setSnapshot(true);
+
+    lotsUpdated = builder.build();
+  }
+
+  public LOTSUpdated(CodedInputStream in)
+    throws IOException
+  {
+    super(FederateMessageProtos.LOTSUpdated.newBuilder(), in);
+  }
+
+  public Map<FederateHandle, LogicalTime> getLOTS()
+  {
+    return lots;
+  }
+
+  public boolean isSnapshot()
+  {
+    return builder.getSnapshot();
+  }
+
+  public boolean isAcknowledge()
+  {
+    return builder.getAcknowledge();
+  }
+
+  @Override
+  public FederateMessageProtos.LOTSUpdated getMessageLite()
+  {
+    return lotsUpdated == null ? builder.build() : lotsUpdated;
+  }
+
+  @Override
+  public MessageProtos.MessageType getMessageType()
+  {
+    return MessageProtos.MessageType.LOTS_UPDATED;
+  }
+
+  @Override
+  public void execute(Federate federate)
+  {
+    // an embedded federate is handed the very message written to every time constrained federate
+    //
+    if (lots == null)
+    {
+      lots = new LinkedHashMap<>();
+      for (FederateMessageProtos.LOTSUpdated.LOTS entry : builder.getLotsList())
+      {
+        lots.put(FederateHandles.convert(entry.getFederateHandle()), entry.hasLots() ?
+          LogicalTimes.convert(federate.getLogicalTimeFactory(), entry.getLots()) : null);
+      }
+    }
+
+    federate.lotsUpdated(this);
+  }
+
+  private static FederateMessageProtos.LOTSUpdated.LOTS.Builder convert(
+    FederateHandle federateHandle, LogicalTimeFactory logicalTimeFactory, LogicalTime lots)
+  {
+    FederateMessageProtos.LOTSUpdated.LOTS.Builder builder =
+      FederateMessageProtos.LOTSUpdated.LOTS.newBuilder().setFederateHandle(FederateHandles.convert(federateHandle));
+    if (lots != null)
+    {
+      builder.setLots(LogicalTimes.convert(logicalTimeFactory, lots));
+    }
+    return builder;
+  }
+}
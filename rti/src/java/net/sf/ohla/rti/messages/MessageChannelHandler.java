@@ -36,19 +36,52 @@ public class MessageChannelHandler
 {
   public static final String NAME = MessageChannelHandler.class.getSimpleName();
 
-  private final Executor executor;
+  /**
+   * The most messages delivered before giving other channels sharing the {@link Executor} a turn.
+   */
+  private static final int MAX_MESSAGES_PER_DELIVERY = 64;
+
+  private final Executor defaultExecutor;
+
+  private volatile Executor executor;
 
   private final Object readLock = new Object();
   private final LinkedList<ContextedMessage> messages = new LinkedList<>();
 
+  /**
+   * Whether writers wait while the channel is not writable. The RTI never waits, it queues per federate instead (see
+   * {@code FederateProxyOutboundQueue}), a federate waits so that a slow RTI slows down the federate's own thread.
+   */
+  private final boolean blockWrites;
+
   private final Object writeLock = new Object();
   private boolean writeable = true;
 
   public MessageChannelHandler(Executor executor)
   {
+    this(executor, true);
+  }
+
+  public MessageChannelHandler(Executor executor, boolean blockWrites)
+  {
+    defaultExecutor = executor;
+    this.blockWrites = blockWrites;
+
     this.executor = executor;
   }
 
+  /**
+   * Changes the {@link Executor} messages are delivered on. Messages are still delivered one at a time and in the
+   * order they were received.
+   *
+   * @param executor the new {@code Executor} or {@code null} to return to the {@code Executor} this handler was
+   * created with
+   */
+  public void setExecutor(Executor executor)
+  {
+    this.executor = executor == null ? defaultExecutor : executor;
+  }
+
   public void handleUpstream(ChannelHandlerContext context, ChannelEvent event)
     throws Exception
   {
@@ -96,7 +129,7 @@ public class MessageChannelHandler
   public void handleDownstream(ChannelHandlerContext context, ChannelEvent event)
     throws Exception
   {
-    if (event instanceof MessageEvent)
+    if (blockWrites && event instanceof MessageEvent)
     {
       synchronized (writeLock)
       {
@@ -140,6 +173,7 @@ public class MessageChannelHandler
     public void run()
     {
       boolean done;
+      int delivered = 0;
       do
       {
         ContextedMessage message;
@@ -165,7 +199,14 @@ public class MessageChannelHandler
             done = messages.isEmpty();
           }
         }
-      } while (!done);
+      } while (!done && ++delivered < MAX_MESSAGES_PER_DELIVERY);
+
+      if (!done)
+      {
+        // give the other channels a turn, this channel is still the only one allowed to deliver its messages
+        //
+        executor.execute(this);
+      }
     }
   }
 }
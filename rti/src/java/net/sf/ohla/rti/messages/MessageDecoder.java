@@ -16,90 +16,72 @@
 
 package net.sf.ohla.rti.messages;
 
+import net.sf.ohla.rti.i18n.ExceptionMessages;
+import net.sf.ohla.rti.i18n.I18n;
+
 import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.buffer.ChannelBuffers;
-import org.jboss.netty.channel.ChannelEvent;
+import org.jboss.netty.channel.Channel;
 import org.jboss.netty.channel.ChannelHandlerContext;
-import org.jboss.netty.channel.ChannelUpstreamHandler;
-import org.jboss.netty.channel.Channels;
-import org.jboss.netty.channel.MessageEvent;
+import org.jboss.netty.handler.codec.frame.CorruptedFrameException;
+import org.jboss.netty.handler.codec.frame.FrameDecoder;
 
+/**
+ * Decodes the length-prefixed messages written by the {@link MessageEncoder}. Messages are parsed straight from the
+ * received buffer, only messages that arrive in pieces are accumulated by the {@link FrameDecoder} first. A frame
+ * longer than {@code ohla.rti.maxFrameLength} bytes, or with a negative length, closes the channel.
+ */
 public class MessageDecoder
-  implements ChannelUpstreamHandler
+  extends FrameDecoder
 {
   public static final String NAME = MessageDecoder.class.getSimpleName();
 
-  private final ChannelBuffer lengthBuffer = ChannelBuffers.buffer(4);
+  public static final String OHLA_RTI_MAX_FRAME_LENGTH_PROPERTY = "ohla.rti.maxFrameLength";
 
-  private ChannelBuffer message;
+  public static final int DEFAULT_MAX_FRAME_LENGTH = 64 * 1024 * 1024;
 
-  public void handleUpstream(ChannelHandlerContext context, ChannelEvent event)
-    throws Exception
-  {
-    if (event instanceof MessageEvent)
-    {
-      assert ((MessageEvent) event).getMessage() instanceof ChannelBuffer;
+  static final int LENGTH_FIELD_LENGTH = 4;
 
-      ChannelBuffer buffer = (ChannelBuffer) ((MessageEvent) event).getMessage();
-      while (buffer.readable())
-      {
-        if (message == null)
-        {
-          decodeLength(context, buffer);
-        }
-        else
-        {
-          decodeMessage(context, buffer);
-        }
-      }
-    }
-    else
-    {
-      context.sendUpstream(event);
-    }
-  }
+  private static final int maxFrameLength = Integer.getInteger(
+    OHLA_RTI_MAX_FRAME_LENGTH_PROPERTY, DEFAULT_MAX_FRAME_LENGTH);
 
-  private void decodeLength(ChannelHandlerContext context, ChannelBuffer buffer)
+  @Override
+  protected Object decode(ChannelHandlerContext context, Channel channel, ChannelBuffer buffer)
+    throws CorruptedFrameException
   {
-    do
-    {
-      byte b = buffer.readByte();
-      lengthBuffer.writeByte(b);
+    Message message;
 
-      if (lengthBuffer.readableBytes() == 4)
-      {
-        int length = lengthBuffer.readInt();
-        lengthBuffer.clear();
-
-        message = ChannelBuffers.buffer(length);
-
-        if (buffer.readable())
-        {
-          decodeMessage(context, buffer);
-        }
-      }
-    } while (message == null && buffer.readable());
-  }
-
-  private void decodeMessage(ChannelHandlerContext context, ChannelBuffer buffer)
-  {
-    int available = buffer.readableBytes();
-    if (available < message.writableBytes())
+    int readableBytes = buffer.readableBytes();
+    if (readableBytes < LENGTH_FIELD_LENGTH)
     {
-      buffer.readBytes(message, available);
+      message = null;
     }
     else
     {
-      buffer.readBytes(message);
-
-      try
+      int length = buffer.getInt(buffer.readerIndex());
+      if (length < 0 || length > maxFrameLength)
       {
-        Channels.fireMessageReceived(context, Messages.parseFrom(message));
+        // the stream cannot be resynchronized, nor should the frame be buffered until it arrives
+        //
+        channel.close();
+
+        throw new CorruptedFrameException(I18n.getMessage(
+          ExceptionMessages.INVALID_FRAME_LENGTH, length, maxFrameLength));
       }
-      finally
+      else if (readableBytes < LENGTH_FIELD_LENGTH + length)
       {
+        // wait for the rest of the message
+        //
         message = null;
       }
+      else
+      {
+        buffer.skipBytes(LENGTH_FIELD_LENGTH);
+
+        message = Messages.parseFrom(buffer, buffer.readerIndex(), length);
+
+        buffer.skipBytes(length);
+      }
     }
+    return message;
   }
 }
@@ -34,44 +34,118 @@ public class MessageEncoder
 {
   public static final String NAME = MessageEncoder.class.getSimpleName();
 
+  /**
+   * Messages are encoded into slices of a shared arena instead of a buffer each. Netty does not reuse buffers so an
+   * arena is simply dropped when it is full and collected once all the messages encoded into it have been written.
+   */
+  private static final int ARENA_CAPACITY = 64 * 1024;
+
+  /**
+   * Messages larger than this get a buffer of their own so they do not waste the rest of an arena.
+   */
+  private static final int MAX_ARENA_ALLOCATION = ARENA_CAPACITY / 8;
+
+  private ChannelBuffer arena;
+
   public void handleDownstream(ChannelHandlerContext context, ChannelEvent event)
     throws IOException
   {
-    if (event instanceof MessageEvent)
+    if (event instanceof MessageEvent && !(((MessageEvent) event).getMessage() instanceof ChannelBuffer))
+    {
+      Channels.write(context, event.getFuture(), encode((Message) ((MessageEvent) event).getMessage()));
+    }
+    else
     {
-      Message message = (Message) ((MessageEvent) event).getMessage();
+      // already encoded messages, such as those read back from a spill file, pass straight through
+      //
+      context.sendDownstream(event);
+    }
+  }
 
-      MessageLite messageLite = message.getMessageLite();
+  /**
+   * Encodes the specified {@code Message} into a length prefixed frame.
+   *
+   * @param message the {@code Message} to encode
+   * @return the encoded frame
+   * @throws IOException if the message could not be encoded
+   */
+  public ChannelBuffer encode(Message message)
+    throws IOException
+  {
+    MessageLite messageLite;
+    ChannelBuffer sharedPayload;
+    if (message instanceof SharedPayloadMessage)
+    {
+      messageLite = ((SharedPayloadMessage) message).getHeader();
+      sharedPayload = ((SharedPayloadMessage) message).getSharedPayload();
+    }
+    else
+    {
+      messageLite = message.getMessageLite();
+      sharedPayload = null;
+    }
 
-      // compute the message length
-      //
-      int length = messageLite.getSerializedSize();
-      length += CodedOutputStream.computeRawVarint32Size(message.getMessageType().ordinal());
+    // compute the header length
+    //
+    int headerLength = messageLite.getSerializedSize();
+    headerLength += CodedOutputStream.computeRawVarint32Size(message.getMessageType().ordinal());
 
-      // add 4 for the length field
-      //
-      ChannelBuffer channelBuffer = ChannelBuffers.buffer(length + 4);
+    // compute the message length
+    //
+    int length = sharedPayload == null ? headerLength : headerLength + sharedPayload.readableBytes();
 
-      // write the length as a normal 4-byte integer
-      //
-      channelBuffer.writeInt(length);
+    // add 4 for the length field
+    //
+    ChannelBuffer channelBuffer = allocate(headerLength + 4);
 
-      CodedOutputStream out = CodedOutputStream.newInstance(
-        channelBuffer.array(), channelBuffer.arrayOffset() + channelBuffer.writerIndex(), length);
+    // write the length as a normal 4-byte integer
+    //
+    channelBuffer.writeInt(length);
 
-      out.writeRawVarint32(message.getMessageType().ordinal());
+    CodedOutputStream out = CodedOutputStream.newInstance(
+      channelBuffer.array(), channelBuffer.arrayOffset() + channelBuffer.writerIndex(), headerLength);
 
-      message.getMessageLite().writeTo(out);
+    out.writeRawVarint32(message.getMessageType().ordinal());
 
-      // move the writer index because the CodedOutputStream wrote directly to the ChannelBuffer's array
+    messageLite.writeTo(out);
+
+    // move the writer index because the CodedOutputStream wrote directly to the ChannelBuffer's array
+    //
+    channelBuffer.writerIndex(channelBuffer.capacity());
+
+    if (sharedPayload != null)
+    {
+      // append the shared payload without copying it, the duplicate keeps the shared indexes untouched
       //
-      channelBuffer.writerIndex(channelBuffer.capacity());
+      channelBuffer = ChannelBuffers.wrappedBuffer(channelBuffer, sharedPayload.duplicate());
+    }
 
-      Channels.write(context, event.getFuture(), channelBuffer);
+    return channelBuffer;
+  }
+
+  /**
+   * Allocates an empty buffer of the specified capacity. Messages can be encoded concurrently so allocation is
+   * synchronized, encoding into the allocated buffers is not.
+   */
+  private synchronized ChannelBuffer allocate(int capacity)
+  {
+    ChannelBuffer buffer;
+    if (capacity > MAX_ARENA_ALLOCATION)
+    {
+      buffer = ChannelBuffers.buffer(capacity);
     }
     else
     {
-      context.sendDownstream(event);
+      if (arena == null || arena.writableBytes() < capacity)
+      {
+        arena = ChannelBuffers.buffer(ARENA_CAPACITY);
+      }
+
+      buffer = arena.slice(arena.writerIndex(), capacity);
+      buffer.clear();
+
+      arena.writerIndex(arena.writerIndex() + capacity);
     }
+    return buffer;
   }
 }
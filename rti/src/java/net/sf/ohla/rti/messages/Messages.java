@@ -18,6 +18,8 @@ package net.sf.ohla.rti.messages;
 
 import java.io.IOException;
 
+import java.util.List;
+
 import net.sf.ohla.rti.messages.callbacks.AnnounceSynchronizationPoint;
 import net.sf.ohla.rti.messages.callbacks.AttributeIsNotOwned;
 import net.sf.ohla.rti.messages.callbacks.AttributeIsOwnedByRTI;
@@ -45,6 +47,7 @@ import net.sf.ohla.rti.messages.callbacks.ObjectInstanceNameReservationSucceeded
 import net.sf.ohla.rti.messages.callbacks.ProvideAttributeValueUpdate;
 import net.sf.ohla.rti.messages.callbacks.ReceiveInteraction;
 import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValues;
+import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValuesBatch;
 import net.sf.ohla.rti.messages.callbacks.RemoveObjectInstance;
 import net.sf.ohla.rti.messages.callbacks.ReportFederationExecutions;
 import net.sf.ohla.rti.messages.callbacks.ReportInteractionTransportationType;
@@ -67,6 +70,7 @@ import net.sf.ohla.rti.messages.callbacks.TurnUpdatesOnForObjectInstance;
 import net.sf.ohla.rti.messages.proto.MessageProtos;
 
 import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
 
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
@@ -76,12 +80,32 @@ public class Messages
 {
   public static <ML extends MessageLite, B extends MessageLite.Builder> Message<ML, B> parseFrom(ChannelBuffer buffer)
   {
-    assert buffer.hasArray();
+    return parseFrom(buffer, buffer.readerIndex(), buffer.readableBytes());
+  }
+
+  /**
+   * Parses the message encoded in the specified region of the buffer. The message is parsed straight from the buffer's
+   * array without copying it, the buffer can be reused once this returns because the message does not refer to it.
+   *
+   * @param buffer the buffer the message is encoded in
+   * @param index the index of the message in the buffer
+   * @param length the length of the message
+   * @return the parsed message
+   */
+  public static <ML extends MessageLite, B extends MessageLite.Builder> Message<ML, B> parseFrom(
+    ChannelBuffer buffer, int index, int length)
+  {
+    if (!buffer.hasArray())
+    {
+      // only a message that arrived in pieces ends up in a buffer without an array
+      //
+      buffer = buffer.copy(index, length);
+      index = 0;
+    }
 
     try
     {
-      CodedInputStream in = CodedInputStream.newInstance(
-        buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), buffer.readableBytes());
+      CodedInputStream in = CodedInputStream.newInstance(buffer.array(), buffer.arrayOffset() + index, length);
       return parseFrom(in, MessageProtos.MessageType.values()[in.readRawVarint32()]);
     }
     catch (IOException ioe)
@@ -92,6 +116,46 @@ public class Messages
     }
   }
 
+  /**
+   * Encodes the specified {@code MessageLite}s as occurrences of the specified repeated field. The resulting buffer can
+   * be appended to the encoding of any message that declares a repeated field with the same number and type.
+   *
+   * @param fieldNumber the number of the repeated field
+   * @param messageLites the {@code MessageLite}s to encode
+   * @return a buffer containing the encoded field
+   */
+  public static ChannelBuffer encodeRepeatedField(int fieldNumber, List<? extends MessageLite> messageLites)
+  {
+    int length = 0;
+    for (MessageLite messageLite : messageLites)
+    {
+      length += CodedOutputStream.computeMessageSize(fieldNumber, messageLite);
+    }
+
+    ChannelBuffer buffer = ChannelBuffers.buffer(length);
+
+    CodedOutputStream out = CodedOutputStream.newInstance(buffer.array(), buffer.arrayOffset(), length);
+    try
+    {
+      for (MessageLite messageLite : messageLites)
+      {
+        out.writeMessage(fieldNumber, messageLite);
+      }
+    }
+    catch (IOException ioe)
+    {
+      // this should not happen
+
+      throw new RuntimeException(ioe);
+    }
+
+    // move the writer index because the CodedOutputStream wrote directly to the ChannelBuffer's array
+    //
+    buffer.writerIndex(length);
+
+    return buffer;
+  }
+
   @SuppressWarnings("unchecked")
   public static <ML extends MessageLite, B extends MessageLite.Builder> Message<ML, B> parseDelimitedFrom(
     CodedInputStream in, MessageProtos.MessageType messageType)
@@ -533,6 +597,27 @@ public class Messages
       case FEDERATE_STATE_FRAME:
         message = new FederateStateFrame(in);
         break;
+      case OPEN_SHARED_MEMORY:
+        message = new OpenSharedMemory(in);
+        break;
+      case OPEN_SHARED_MEMORY_RESPONSE:
+        message = new OpenSharedMemoryResponse(in);
+        break;
+      case UPDATE_LOTS:
+        message = new UpdateLOTS(in);
+        break;
+      case LOTS_UPDATED:
+        message = new LOTSUpdated(in);
+        break;
+      case ACKNOWLEDGE_LOTS:
+        message = new AcknowledgeLOTS(in);
+        break;
+      case UPDATE_ATTRIBUTE_VALUES_BATCH:
+        message = new UpdateAttributeValuesBatch(in);
+        break;
+      case REFLECT_ATTRIBUTE_VALUES_BATCH:
+        message = new ReflectAttributeValuesBatch(in);
+        break;
       default:
         throw new Error();
     }
@@ -25,6 +25,7 @@ import net.sf.ohla.rti.messages.proto.FederationExecutionMessageProtos;
 import net.sf.ohla.rti.messages.proto.MessageProtos;
 
 import com.google.protobuf.CodedInputStream;
+import hla.rti1516e.LogicalTimeFactory;
 import hla.rti1516e.LogicalTimeInterval;
 
 public class ModifyLookahead
@@ -33,11 +34,11 @@ public class ModifyLookahead
 {
   private LogicalTimeInterval lookahead;
 
-  public ModifyLookahead(LogicalTimeInterval lookahead)
+  public ModifyLookahead(LogicalTimeFactory logicalTimeFactory, LogicalTimeInterval lookahead)
   {
     super(FederationExecutionMessageProtos.ModifyLookahead.newBuilder());
 
-    builder.setLookahead(LogicalTimeIntervals.convert(lookahead));
+    builder.setLookahead(LogicalTimeIntervals.convert(logicalTimeFactory, lookahead));
   }
 
   public ModifyLookahead(CodedInputStream in)
@@ -26,6 +26,7 @@ import net.sf.ohla.rti.messages.proto.MessageProtos;
 
 import com.google.protobuf.CodedInputStream;
 import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactory;
 
 public class NextMessageRequest
   extends AbstractMessage<FederationExecutionMessageProtos.NextMessageRequest, FederationExecutionMessageProtos.NextMessageRequest.Builder>
@@ -33,13 +34,13 @@ public class NextMessageRequest
 {
   private LogicalTime time;
 
-  public NextMessageRequest(LogicalTime time)
+  public NextMessageRequest(LogicalTimeFactory logicalTimeFactory, LogicalTime time)
   {
     super(FederationExecutionMessageProtos.NextMessageRequest.newBuilder());
 
     this.time = time;
 
-    builder.setTime(LogicalTimes.convert(time));
+    builder.setTime(LogicalTimes.convert(logicalTimeFactory, time));
   }
 
   public NextMessageRequest(CodedInputStream in)
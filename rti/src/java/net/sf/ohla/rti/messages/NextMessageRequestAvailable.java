@@ -26,6 +26,7 @@ import net.sf.ohla.rti.messages.proto.MessageProtos;
 
 import com.google.protobuf.CodedInputStream;
 import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactory;
 
 public class NextMessageRequestAvailable
   extends AbstractMessage<FederationExecutionMessageProtos.NextMessageRequestAvailable, FederationExecutionMessageProtos.NextMessageRequestAvailable.Builder>
@@ -33,13 +34,13 @@ public class NextMessageRequestAvailable
 {
   private LogicalTime time;
 
-  public NextMessageRequestAvailable(LogicalTime time)
+  public NextMessageRequestAvailable(LogicalTimeFactory logicalTimeFactory, LogicalTime time)
   {
     super(FederationExecutionMessageProtos.NextMessageRequestAvailable.newBuilder());
 
     this.time = time;
 
-    builder.setTime(LogicalTimes.convert(time));
+    builder.setTime(LogicalTimes.convert(logicalTimeFactory, time));
   }
 
   public NextMessageRequestAvailable(CodedInputStream in)
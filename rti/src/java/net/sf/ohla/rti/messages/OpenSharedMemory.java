@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.messages;
+
+import java.io.IOException;
+
+import net.sf.ohla.rti.RTI;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+import net.sf.ohla.rti.messages.proto.RTIMessageProtos;
+
+import org.jboss.netty.channel.ChannelHandlerContext;
+
+import com.google.protobuf.CodedInputStream;
+
+/**
+ * Asks the RTI to move a connection onto the shared memory created by a federate on the same host, see
+ * {@link SharedMemoryChannelHandler}.
+ */
+public class OpenSharedMemory
+  extends AbstractRequest<RTIMessageProtos.OpenSharedMemory, RTIMessageProtos.OpenSharedMemory.Builder, OpenSharedMemoryResponse>
+  implements RTIMessage
+{
+  public OpenSharedMemory(String path, long token)
+  {
+    super(RTIMessageProtos.OpenSharedMemory.newBuilder());
+
+    builder.setPath(path);
+    builder.setToken(token);
+  }
+
+  public OpenSharedMemory(CodedInputStream in)
+    throws IOException
+  {
+    super(RTIMessageProtos.OpenSharedMemory.newBuilder(), in);
+  }
+
+  public String getPath()
+  {
+    return builder.getPath();
+  }
+
+  public long getToken()
+  {
+    return builder.getToken();
+  }
+
+  @Override
+  public MessageProtos.MessageType getMessageType()
+  {
+    return MessageProtos.MessageType.OPEN_SHARED_MEMORY;
+  }
+
+  @Override
+  public long getRequestId()
+  {
+    return builder.getRequestId();
+  }
+
+  @Override
+  public void setRequestId(long requestId)
+  {
+    builder.setRequestId(requestId);
+  }
+
+  @Override
+  public void execute(RTI rti, ChannelHandlerContext context)
+  {
+    rti.openSharedMemory(context, this);
+  }
+}
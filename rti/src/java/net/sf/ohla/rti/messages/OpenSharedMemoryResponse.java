@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.messages;
+
+import java.io.IOException;
+
+import net.sf.ohla.rti.messages.proto.ConnectedMessageProtos;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+
+import com.google.protobuf.CodedInputStream;
+
+public class OpenSharedMemoryResponse
+  extends AbstractMessage<ConnectedMessageProtos.OpenSharedMemoryResponse, ConnectedMessageProtos.OpenSharedMemoryResponse.Builder>
+  implements Response
+{
+  public OpenSharedMemoryResponse(long requestId)
+  {
+    super(ConnectedMessageProtos.OpenSharedMemoryResponse.newBuilder());
+
+    builder.setRequestId(requestId);
+  }
+
+  public OpenSharedMemoryResponse(long requestId, ConnectedMessageProtos.OpenSharedMemoryResponse.Failure.Cause cause)
+  {
+    this(requestId);
+
+    builder.setFailure(ConnectedMessageProtos.OpenSharedMemoryResponse.Failure.newBuilder().setCause(cause));
+  }
+
+  public OpenSharedMemoryResponse(CodedInputStream in)
+    throws IOException
+  {
+    super(ConnectedMessageProtos.OpenSharedMemoryResponse.newBuilder(), in);
+  }
+
+  public ConnectedMessageProtos.OpenSharedMemoryResponse.Failure getFailure()
+  {
+    return builder.getFailure();
+  }
+
+  @Override
+  public MessageProtos.MessageType getMessageType()
+  {
+    return MessageProtos.MessageType.OPEN_SHARED_MEMORY_RESPONSE;
+  }
+
+  @Override
+  public long getRequestId()
+  {
+    return builder.getRequestId();
+  }
+
+  @Override
+  public boolean isSuccess()
+  {
+    return !builder.hasFailure();
+  }
+
+  @Override
+  public boolean isFailure()
+  {
+    return builder.hasFailure();
+  }
+}
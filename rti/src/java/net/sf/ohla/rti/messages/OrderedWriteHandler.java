@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.sf.ohla.rti.messages;
+
+import org.jboss.netty.channel.ChannelDownstreamHandler;
+import org.jboss.netty.channel.ChannelEvent;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.MessageEvent;
+
+/**
+ * Keeps the messages written to an in-JVM channel in the order they were written. An in-JVM channel hands a message
+ * to the other end in the writing thread, but any thread writing at the same time can end up handing over the
+ * messages written by another, so each write is handed over before the next one is let in.
+ */
+public class OrderedWriteHandler
+  implements ChannelDownstreamHandler
+{
+  public static final String NAME = OrderedWriteHandler.class.getSimpleName();
+
+  public void handleDownstream(ChannelHandlerContext context, ChannelEvent event)
+  {
+    if (event instanceof MessageEvent)
+    {
+      synchronized (this)
+      {
+        context.sendDownstream(event);
+      }
+    }
+    else
+    {
+      context.sendDownstream(event);
+    }
+  }
+}
@@ -32,7 +32,7 @@ public class QueryGALTResponse
 {
   private volatile LogicalTime galt;
 
-  public QueryGALTResponse(long requestId, LogicalTime galt)
+  public QueryGALTResponse(long requestId, LogicalTimeFactory logicalTimeFactory, LogicalTime galt)
   {
     super(FederateMessageProtos.QueryGALTResponse.newBuilder());
 
@@ -42,7 +42,7 @@ public class QueryGALTResponse
 
     if (galt != null)
     {
-      builder.setGalt(LogicalTimes.convert(galt));
+      builder.setGalt(LogicalTimes.convert(logicalTimeFactory, galt));
     }
   }
 
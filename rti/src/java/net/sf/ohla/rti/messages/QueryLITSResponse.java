@@ -32,7 +32,7 @@ public class QueryLITSResponse
 {
   private volatile LogicalTime lits;
 
-  public QueryLITSResponse(long requestId, LogicalTime lits)
+  public QueryLITSResponse(long requestId, LogicalTimeFactory logicalTimeFactory, LogicalTime lits)
   {
     super(FederateMessageProtos.QueryLITSResponse.newBuilder());
 
@@ -42,7 +42,7 @@ public class QueryLITSResponse
 
     if (lits != null)
     {
-      builder.setLits(LogicalTimes.convert(lits));
+      builder.setLits(LogicalTimes.convert(logicalTimeFactory, lits));
     }
   }
 
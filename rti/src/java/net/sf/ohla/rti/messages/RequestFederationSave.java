@@ -18,6 +18,7 @@ package net.sf.ohla.rti.messages;
 
 import java.io.IOException;
 
+import net.sf.ohla.rti.util.LogicalTimeIntervals;
 import net.sf.ohla.rti.util.LogicalTimes;
 import net.sf.ohla.rti.federation.FederateProxy;
 import net.sf.ohla.rti.federation.FederationExecution;
@@ -27,6 +28,7 @@ import net.sf.ohla.rti.messages.proto.MessageProtos;
 import com.google.protobuf.CodedInputStream;
 import hla.rti1516e.LogicalTime;
 import hla.rti1516e.LogicalTimeFactory;
+import hla.rti1516e.LogicalTimeInterval;
 import hla.rti1516e.exceptions.CouldNotEncode;
 
 public class RequestFederationSave
@@ -35,6 +37,7 @@ public class RequestFederationSave
 implements FederationExecutionMessage
 {
   private volatile LogicalTime time;
+  private volatile LogicalTimeInterval interval;
 
   public RequestFederationSave(String label)
   {
@@ -43,14 +46,25 @@ implements FederationExecutionMessage
     builder.setLabel(label);
   }
 
-  public RequestFederationSave(String label, LogicalTime time)
+  public RequestFederationSave(String label, LogicalTimeFactory logicalTimeFactory, LogicalTime time)
     throws CouldNotEncode
   {
     this(label);
 
     this.time = time;
 
-    builder.setTime(LogicalTimes.convert(time));
+    builder.setTime(LogicalTimes.convert(logicalTimeFactory, time));
+  }
+
+  public RequestFederationSave(
+    String label, LogicalTimeFactory logicalTimeFactory, LogicalTime time, LogicalTimeInterval interval)
+    throws CouldNotEncode
+  {
+    this(label, logicalTimeFactory, time);
+
+    this.interval = interval;
+
+    builder.setInterval(LogicalTimeIntervals.convert(logicalTimeFactory, interval));
   }
 
   public RequestFederationSave(CodedInputStream in)
@@ -73,6 +87,15 @@ implements FederationExecutionMessage
     return time;
   }
 
+  public LogicalTimeInterval getInterval(LogicalTimeFactory logicalTimeFactory)
+  {
+    if (interval == null && builder.hasInterval())
+    {
+      interval = LogicalTimeIntervals.convert(logicalTimeFactory, builder.getInterval());
+    }
+    return interval;
+  }
+
   @Override
   public MessageProtos.MessageType getMessageType()
   {
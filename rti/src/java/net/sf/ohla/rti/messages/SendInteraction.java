@@ -19,6 +19,7 @@ package net.sf.ohla.rti.messages;
 import java.io.IOException;
 
 import net.sf.ohla.rti.util.InteractionClassHandles;
+import net.sf.ohla.rti.util.LazyParameterHandleValueMap;
 import net.sf.ohla.rti.util.LogicalTimes;
 import net.sf.ohla.rti.util.MessageRetractionHandles;
 import net.sf.ohla.rti.util.OrderTypes;
@@ -27,9 +28,12 @@ import net.sf.ohla.rti.util.RegionHandles;
 import net.sf.ohla.rti.util.TransportationTypeHandles;
 import net.sf.ohla.rti.federation.FederateProxy;
 import net.sf.ohla.rti.federation.FederationExecution;
+import net.sf.ohla.rti.messages.proto.FederateMessageProtos;
 import net.sf.ohla.rti.messages.proto.FederationExecutionMessageProtos;
 import net.sf.ohla.rti.messages.proto.MessageProtos;
 
+import org.jboss.netty.buffer.ChannelBuffer;
+
 import com.google.protobuf.ByteString;
 import com.google.protobuf.CodedInputStream;
 import hla.rti1516e.InteractionClassHandle;
@@ -50,6 +54,8 @@ public class SendInteraction
   private volatile MessageRetractionHandle messageRetractionHandle;
   private volatile RegionHandleSet sentRegionHandles;
 
+  private volatile ChannelBuffer encodedParameterValues;
+
   public SendInteraction(FederationExecutionMessageProtos.SendInteraction messageLite)
   {
     super(messageLite);
@@ -73,13 +79,13 @@ public class SendInteraction
 
   public SendInteraction(
     InteractionClassHandle interactionClassHandle, ParameterHandleValueMap parameterValues,
-    TransportationTypeHandle transportationTypeHandle, byte[] tag, OrderType sentOrderType, LogicalTime time,
-    MessageRetractionHandle messageRetractionHandle)
+    TransportationTypeHandle transportationTypeHandle, byte[] tag, OrderType sentOrderType,
+    LogicalTimeFactory logicalTimeFactory, LogicalTime time, MessageRetractionHandle messageRetractionHandle)
   {
     this(interactionClassHandle, parameterValues, transportationTypeHandle, tag);
 
     builder.setSentOrderType(OrderTypes.convert(sentOrderType));
-    builder.setTime(LogicalTimes.convert(time));
+    builder.setTime(LogicalTimes.convert(logicalTimeFactory, time));
     builder.setMessageRetractionHandle(MessageRetractionHandles.convert(messageRetractionHandle));
   }
 
@@ -94,11 +100,11 @@ public class SendInteraction
 
   public SendInteraction(
     InteractionClassHandle interactionClassHandle, ParameterHandleValueMap parameterValues, byte[] tag,
-    OrderType sentOrderType, TransportationTypeHandle transportationTypeHandle, LogicalTime time,
-    MessageRetractionHandle messageRetractionHandle, RegionHandleSet sentRegionHandles)
+    OrderType sentOrderType, TransportationTypeHandle transportationTypeHandle, LogicalTimeFactory logicalTimeFactory,
+    LogicalTime time, MessageRetractionHandle messageRetractionHandle, RegionHandleSet sentRegionHandles)
   {
-    this(interactionClassHandle, parameterValues, transportationTypeHandle, tag, sentOrderType, time,
-         messageRetractionHandle);
+    this(interactionClassHandle, parameterValues, transportationTypeHandle, tag, sentOrderType, logicalTimeFactory,
+         time, messageRetractionHandle);
 
     builder.addAllSentRegionHandles(RegionHandles.convertToProto(sentRegionHandles));
   }
@@ -116,7 +122,26 @@ public class SendInteraction
 
   public ParameterHandleValueMap getParameterValues()
   {
-    return ParameterValues.convert(builder.getParameterValuesList());
+    return new LazyParameterHandleValueMap(builder.getParameterValuesList());
+  }
+
+  /**
+   * Returns the parameter values encoded once as the parameter values of a {@code ReceiveInteraction}. The buffer is
+   * shared by every subscriber that receives all the parameter values of this interaction.
+   *
+   * @return the parameter values encoded as the parameter values of a {@code ReceiveInteraction}
+   */
+  public ChannelBuffer getEncodedParameterValues()
+  {
+    ChannelBuffer encodedParameterValues = this.encodedParameterValues;
+    if (encodedParameterValues == null)
+    {
+      // racing threads can only encode identical buffers, so there is no need to lock
+      //
+      this.encodedParameterValues = encodedParameterValues = Messages.encodeRepeatedField(
+        FederateMessageProtos.ReceiveInteraction.PARAMETERVALUES_FIELD_NUMBER, builder.getParameterValuesList());
+    }
+    return encodedParameterValues;
   }
 
   public OrderType getSentOrderType()
@@ -128,6 +153,11 @@ public class SendInteraction
     return sentOrderType;
   }
 
+  public TransportationTypeHandle getTransportationTypeHandle()
+  {
+    return TransportationTypeHandles.convert(builder.getTransportationTypeHandle());
+  }
+
   public LogicalTime getTime(LogicalTimeFactory logicalTimeFactory)
   {
     if (time == null && builder.hasTime())
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.messages;
+
+import net.sf.ohla.rti.util.SentRegionVersions;
+
+import com.google.protobuf.MessageLite;
+
+/**
+ * A callback that conveys the regions it was sent with. The sent regions are not encoded until just before the message
+ * is written, so the extents of the regions the receiving federate already has can be left out.
+ */
+public interface SentRegionsMessage<ML extends MessageLite, B extends MessageLite.Builder>
+  extends Message<ML, B>
+{
+  boolean hasSentRegions();
+
+  /**
+   * Encodes the sent regions of this message, if any. Must be called in the order the messages are written to the
+   * receiving federate.
+   *
+   * @param sentRegionVersions the versions of the regions already sent to the receiving federate
+   */
+  void encodeSentRegions(SentRegionVersions sentRegionVersions);
+}
@@ -0,0 +1,579 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.messages;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import net.sf.ohla.rti.i18n.ExceptionMessages;
+import net.sf.ohla.rti.i18n.I18n;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.channel.ChannelDownstreamHandler;
+import org.jboss.netty.channel.ChannelEvent;
+import org.jboss.netty.channel.ChannelFuture;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.ChannelState;
+import org.jboss.netty.channel.ChannelStateEvent;
+import org.jboss.netty.channel.ChannelUpstreamHandler;
+import org.jboss.netty.channel.Channels;
+import org.jboss.netty.channel.LifeCycleAwareChannelHandler;
+import org.jboss.netty.channel.MessageEvent;
+
+/**
+ * Moves a connection between a federate and an RTI on the same host off the socket and onto shared memory. The
+ * federate creates a file, preferably in {@code /dev/shm}, that holds one single-producer/single-consumer
+ * {@link SharedMemoryRing} per direction and asks the RTI to open it with {@link OpenSharedMemory}. Each side then
+ * replaces its {@link CoalescingWriteHandler} with this handler and the encoded messages are copied into the rings
+ * instead of being written to the socket. The socket stays open, closing either end still closes the connection.
+ * <p/>
+ * Each side runs a thread that delivers what the peer wrote and copies the writes that did not fit into the ring
+ * straight away. The peer is in another process and cannot be woken up, so an idle thread spins first, then yields
+ * and then parks for increasingly long periods.
+ */
+public class SharedMemoryChannelHandler
+  implements ChannelUpstreamHandler, ChannelDownstreamHandler, LifeCycleAwareChannelHandler
+{
+  public static final String NAME = SharedMemoryChannelHandler.class.getSimpleName();
+
+  public static final int DEFAULT_CAPACITY = 4 * 1024 * 1024;
+
+  public static final int MIN_CAPACITY = 64 * 1024;
+  public static final int MAX_CAPACITY = 256 * 1024 * 1024;
+
+  /**
+   * Where shared memory is created and opened unless configured otherwise, {@code java.io.tmpdir} is used if this does
+   * not exist.
+   */
+  public static final String DEFAULT_DIRECTORY = "/dev/shm";
+
+  private static final long MAGIC = 0x4f484c4153484d31L;
+
+  private static final int MAGIC_OFFSET = 0;
+  private static final int TOKEN_OFFSET = MAGIC_OFFSET + 8;
+  private static final int CAPACITY_OFFSET = TOKEN_OFFSET + 8;
+
+  private static final int HEADER_LENGTH = 64;
+
+  /**
+   * The number of times an idle thread checks for work before it starts yielding, spinning only takes the processor
+   * away from the peer when there is just the one.
+   */
+  private static final int SPIN_TRIES = Runtime.getRuntime().availableProcessors() > 1 ? 10000 : 0;
+
+  /**
+   * The number of times an idle thread yields before it starts parking.
+   */
+  private static final int YIELD_TRIES = 100;
+
+  private static final long MIN_PARK_NANOS = 1000L;
+  private static final long MAX_PARK_NANOS = 100000L;
+
+  /**
+   * The most bytes a federate queues before its writers wait for the RTI to catch up, the RTI never waits (see
+   * {@link MessageChannelHandler}).
+   */
+  private static final int MAX_QUEUED_BYTES = 16 * 1024 * 1024;
+
+  private final Path path;
+  private final long token;
+
+  private final SharedMemoryRing in;
+  private final SharedMemoryRing out;
+
+  private final boolean blockWrites;
+
+  private final Queue<QueuedWrite> queuedWrites = new ArrayDeque<>();
+  private int queuedBytes;
+
+  private volatile boolean writing;
+  private volatile boolean closed;
+
+  private ChannelHandlerContext context;
+  private Thread deliverer;
+
+  private SharedMemoryChannelHandler(
+    Path path, long token, MappedByteBuffer buffer, int capacity, boolean federate)
+  {
+    this.path = path;
+    this.token = token;
+
+    // the first ring carries the federate's messages, the second the RTI's
+    //
+    SharedMemoryRing federateRing = new SharedMemoryRing(buffer, HEADER_LENGTH, capacity);
+    SharedMemoryRing rtiRing = new SharedMemoryRing(buffer, HEADER_LENGTH + SharedMemoryRing.length(capacity), capacity);
+
+    in = federate ? rtiRing : federateRing;
+    out = federate ? federateRing : rtiRing;
+
+    blockWrites = federate;
+
+    // the federate keeps writing to the socket until the RTI has opened the shared memory
+    //
+    writing = !federate;
+  }
+
+  /**
+   * Creates the shared memory for a federate. Messages keep going out over the socket until {@link #startWriting()}
+   * is called.
+   *
+   * @param directory the directory the shared memory file is created in
+   * @param capacity the number of bytes buffered in each direction, rounded up to a power of two
+   */
+  public static SharedMemoryChannelHandler create(Path directory, int capacity)
+    throws IOException
+  {
+    if (capacity < MIN_CAPACITY || capacity > MAX_CAPACITY)
+    {
+      throw new IllegalArgumentException(I18n.getMessage(
+        ExceptionMessages.INVALID_SHARED_MEMORY_CAPACITY, capacity, MIN_CAPACITY, MAX_CAPACITY));
+    }
+
+    capacity = Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1;
+
+    long token = ThreadLocalRandom.current().nextLong();
+
+    Path path = Files.createTempFile(directory, "ohla-", ".shm");
+    try
+    {
+      MappedByteBuffer buffer = map(path, length(capacity));
+
+      buffer.putLong(TOKEN_OFFSET, token);
+      buffer.putInt(CAPACITY_OFFSET, capacity);
+      buffer.putLong(MAGIC_OFFSET, MAGIC);
+
+      return new SharedMemoryChannelHandler(path, token, buffer, capacity, true);
+    }
+    catch (IOException | RuntimeException e)
+    {
+      Files.deleteIfExists(path);
+
+      throw e;
+    }
+  }
+
+  /**
+   * Opens the shared memory created by a federate for the RTI. Messages are written to the shared memory as soon as
+   * this handler is added to the pipeline.
+   *
+   * @param path the shared memory file
+   * @param token the token the federate wrote into the shared memory, guards against a federate on another host
+   * naming a file that happens to exist on this one
+   */
+  public static SharedMemoryChannelHandler open(Path path, long token)
+    throws IOException
+  {
+    MappedByteBuffer buffer = map(path, -1);
+
+    int capacity = buffer.capacity() < HEADER_LENGTH ? 0 : buffer.getInt(CAPACITY_OFFSET);
+    if (capacity < MIN_CAPACITY || capacity > MAX_CAPACITY || Integer.bitCount(capacity) != 1 ||
+        buffer.capacity() != length(capacity) || buffer.getLong(MAGIC_OFFSET) != MAGIC ||
+        buffer.getLong(TOKEN_OFFSET) != token)
+    {
+      throw new IOException(I18n.getMessage(ExceptionMessages.INVALID_SHARED_MEMORY, path));
+    }
+
+    return new SharedMemoryChannelHandler(path, token, buffer, capacity, false);
+  }
+
+  /**
+   * Returns {@link #DEFAULT_DIRECTORY} if it exists, {@code java.io.tmpdir} otherwise.
+   */
+  public static Path getDefaultDirectory()
+  {
+    return Files.isDirectory(Paths.get(DEFAULT_DIRECTORY)) ?
+      Paths.get(DEFAULT_DIRECTORY) : Paths.get(System.getProperty("java.io.tmpdir"));
+  }
+
+  public Path getPath()
+  {
+    return path;
+  }
+
+  public long getToken()
+  {
+    return token;
+  }
+
+  /**
+   * Moves the federate's writes onto the shared memory once the RTI has opened it.
+   */
+  public void startWriting()
+  {
+    writing = true;
+  }
+
+  public void beforeAdd(ChannelHandlerContext context)
+  {
+  }
+
+  public void afterAdd(ChannelHandlerContext context)
+  {
+    this.context = context;
+
+    deliverer = new Thread(new Runnable()
+    {
+      public void run()
+      {
+        deliver();
+      }
+    }, NAME + "-" + path.getFileName());
+    deliverer.setDaemon(true);
+    deliverer.start();
+  }
+
+  public void beforeRemove(ChannelHandlerContext context)
+  {
+  }
+
+  public void afterRemove(ChannelHandlerContext context)
+  {
+    close();
+  }
+
+  public void handleUpstream(ChannelHandlerContext context, ChannelEvent event)
+  {
+    if (event instanceof ChannelStateEvent && ((ChannelStateEvent) event).getState() == ChannelState.OPEN &&
+        Boolean.FALSE.equals(((ChannelStateEvent) event).getValue()))
+    {
+      // deliver whatever the peer wrote before it closed the connection
+      //
+      close();
+    }
+
+    context.sendUpstream(event);
+  }
+
+  public void handleDownstream(ChannelHandlerContext context, ChannelEvent event)
+  {
+    if (!writing)
+    {
+      context.sendDownstream(event);
+    }
+    else if (event instanceof MessageEvent)
+    {
+      write((MessageEvent) event);
+    }
+    else
+    {
+      // queued writes must go out before the channel is closed, disconnected or unbound
+      //
+      boolean queued;
+      synchronized (this)
+      {
+        queued = !closed && !queuedWrites.isEmpty();
+        if (queued)
+        {
+          queuedWrites.add(new QueuedWrite(event, null));
+        }
+      }
+
+      if (queued)
+      {
+        LockSupport.unpark(deliverer);
+      }
+      else
+      {
+        context.sendDownstream(event);
+      }
+    }
+  }
+
+  private void write(MessageEvent event)
+  {
+    ChannelBuffer buffer = (ChannelBuffer) event.getMessage();
+
+    // the buffer may be shared with writes to other channels, it is read without moving its reader index
+    //
+    boolean written;
+    boolean queued;
+    synchronized (this)
+    {
+      while (blockWrites && queuedBytes > MAX_QUEUED_BYTES && !closed && Thread.currentThread() != deliverer)
+      {
+        try
+        {
+          wait();
+        }
+        catch (InterruptedException ie)
+        {
+          Thread.currentThread().interrupt();
+
+          break;
+        }
+      }
+
+      if (closed)
+      {
+        written = false;
+        queued = false;
+      }
+      else
+      {
+        int index = buffer.readerIndex();
+        int length = buffer.readableBytes();
+
+        int copied = queuedWrites.isEmpty() ? out.write(buffer, index, length) : 0;
+
+        written = copied == length;
+        queued = !written;
+
+        if (queued)
+        {
+          queuedWrites.add(new QueuedWrite(event, buffer.slice(index + copied, length - copied)));
+          queuedBytes += length - copied;
+        }
+      }
+    }
+
+    if (written)
+    {
+      event.getFuture().setSuccess();
+    }
+    else if (queued)
+    {
+      LockSupport.unpark(deliverer);
+    }
+    else
+    {
+      event.getFuture().setFailure(new ClosedChannelException());
+    }
+  }
+
+  private void deliver()
+  {
+    int idleCount = 0;
+    while (!closed)
+    {
+      if (read() | flush())
+      {
+        idleCount = 0;
+      }
+      else
+      {
+        idle(++idleCount);
+      }
+    }
+  }
+
+  private boolean read()
+  {
+    ChannelBuffer buffer = in.read();
+    if (buffer != null)
+    {
+      Channels.fireMessageReceived(context, buffer);
+    }
+    return buffer != null;
+  }
+
+  /**
+   * Copies as many queued writes into the ring as fit.
+   */
+  private boolean flush()
+  {
+    List<ChannelFuture> completedWrites = new ArrayList<>();
+    List<ChannelEvent> events = new ArrayList<>();
+
+    boolean flushed = false;
+
+    synchronized (this)
+    {
+      for (QueuedWrite queuedWrite = queuedWrites.peek(); queuedWrite != null && !closed;
+           queuedWrite = queuedWrites.peek())
+      {
+        if (queuedWrite.buffer == null)
+        {
+          queuedWrites.poll();
+
+          events.add(queuedWrite.event);
+        }
+        else
+        {
+          ChannelBuffer buffer = queuedWrite.buffer;
+
+          int copied = out.write(buffer, buffer.readerIndex(), buffer.readableBytes());
+          if (copied > 0)
+          {
+            buffer.skipBytes(copied);
+            queuedBytes -= copied;
+
+            flushed = true;
+          }
+
+          if (buffer.readable())
+          {
+            break;
+          }
+
+          queuedWrites.poll();
+
+          completedWrites.add(queuedWrite.event.getFuture());
+        }
+      }
+
+      if (flushed && blockWrites)
+      {
+        notifyAll();
+      }
+    }
+
+    for (ChannelFuture future : completedWrites)
+    {
+      future.setSuccess();
+    }
+
+    for (ChannelEvent event : events)
+    {
+      context.sendDownstream(event);
+    }
+
+    return flushed || !events.isEmpty();
+  }
+
+  private void idle(int idleCount)
+  {
+    if (idleCount <= SPIN_TRIES)
+    {
+      // spin
+    }
+    else if (idleCount <= SPIN_TRIES + YIELD_TRIES)
+    {
+      Thread.yield();
+    }
+    else
+    {
+      int parks = Math.min(idleCount - SPIN_TRIES - YIELD_TRIES, 16);
+      LockSupport.parkNanos(this, Math.min(MIN_PARK_NANOS << parks, MAX_PARK_NANOS));
+    }
+  }
+
+  private void close()
+  {
+    List<QueuedWrite> failedWrites;
+
+    synchronized (this)
+    {
+      failedWrites = closed ? null : new ArrayList<>(queuedWrites);
+
+      closed = true;
+
+      queuedWrites.clear();
+      queuedBytes = 0;
+
+      notifyAll();
+    }
+
+    if (failedWrites != null)
+    {
+      if (deliverer != null && deliverer != Thread.currentThread())
+      {
+        LockSupport.unpark(deliverer);
+
+        boolean interrupted = false;
+        while (deliverer.isAlive())
+        {
+          try
+          {
+            deliverer.join();
+          }
+          catch (InterruptedException ie)
+          {
+            interrupted = true;
+          }
+        }
+
+        if (interrupted)
+        {
+          Thread.currentThread().interrupt();
+        }
+
+        read();
+      }
+
+      for (QueuedWrite failedWrite : failedWrites)
+      {
+        if (failedWrite.buffer == null)
+        {
+          context.sendDownstream(failedWrite.event);
+        }
+        else
+        {
+          failedWrite.event.getFuture().setFailure(new ClosedChannelException());
+        }
+      }
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return path.toString();
+  }
+
+  private static int length(int capacity)
+  {
+    return HEADER_LENGTH + 2 * SharedMemoryRing.length(capacity);
+  }
+
+  /**
+   * @param length the length of the mapping, the file is extended if necessary, or -1 to map an existing file
+   */
+  private static MappedByteBuffer map(Path path, int length)
+    throws IOException
+  {
+    if (!SharedMemoryFences.isAvailable())
+    {
+      throw new IOException(I18n.getMessage(ExceptionMessages.SHARED_MEMORY_NOT_SUPPORTED));
+    }
+
+    try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE))
+    {
+      // an existing file is mapped whole, but no larger than the largest shared memory created
+      //
+      return fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, length < 0 ?
+        Math.min(fileChannel.size(), length(MAX_CAPACITY)) : length);
+    }
+  }
+
+  private static class QueuedWrite
+  {
+    private final ChannelEvent event;
+
+    /**
+     * What is left to write, {@code null} for events that are passed on once the writes before them are written.
+     */
+    private final ChannelBuffer buffer;
+
+    private QueuedWrite(ChannelEvent event, ChannelBuffer buffer)
+    {
+      this.event = event;
+      this.buffer = buffer;
+    }
+  }
+}
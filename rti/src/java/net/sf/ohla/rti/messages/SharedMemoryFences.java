@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.messages;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Memory fences for memory shared with another process, where the Java memory model says nothing about the order the
+ * peer sees the shared bytes in.
+ * <p/>
+ * On Java 9 and later the fences are {@code VarHandle.releaseFence} and {@code VarHandle.acquireFence}, looked up at
+ * runtime so the tree still compiles on Java 8. Java 8 has no public fence, there they are
+ * {@code sun.misc.Unsafe.storeFence} and {@code sun.misc.Unsafe.loadFence}, which Java 9 specifies as the release and
+ * acquire fences. A volatile field would not do, the memory model only orders it against other accesses to the same
+ * field by threads of this process. Shared memory is not used if neither is found.
+ */
+final class SharedMemoryFences
+{
+  private static final MethodHandle RELEASE_FENCE = findFence("releaseFence", "storeFence");
+  private static final MethodHandle ACQUIRE_FENCE = findFence("acquireFence", "loadFence");
+
+  private SharedMemoryFences()
+  {
+  }
+
+  static boolean isAvailable()
+  {
+    return RELEASE_FENCE != null && ACQUIRE_FENCE != null;
+  }
+
+  /**
+   * Orders the loads and stores before the fence before the stores after it.
+   */
+  static void release()
+  {
+    invoke(RELEASE_FENCE);
+  }
+
+  /**
+   * Orders the loads before the fence before the loads and stores after it.
+   */
+  static void acquire()
+  {
+    invoke(ACQUIRE_FENCE);
+  }
+
+  private static void invoke(MethodHandle fence)
+  {
+    try
+    {
+      fence.invokeExact();
+    }
+    catch (Throwable t)
+    {
+      throw new Error(t);
+    }
+  }
+
+  /**
+   * Returns the {@code VarHandle} fence, or the {@code Unsafe} fence bound to the {@code Unsafe} instance, or
+   * {@code null} if there is neither.
+   */
+  private static MethodHandle findFence(String varHandleName, String unsafeName)
+  {
+    MethodHandle fence;
+    try
+    {
+      fence = MethodHandles.publicLookup().findStatic(
+        Class.forName("java.lang.invoke.VarHandle"), varHandleName, MethodType.methodType(void.class));
+    }
+    catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e)
+    {
+      try
+      {
+        Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+
+        Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+        theUnsafe.setAccessible(true);
+
+        fence = MethodHandles.publicLookup().findVirtual(
+          unsafeClass, unsafeName, MethodType.methodType(void.class)).bindTo(theUnsafe.get(null));
+      }
+      catch (ReflectiveOperationException | RuntimeException re)
+      {
+        fence = null;
+      }
+    }
+    return fence;
+  }
+}
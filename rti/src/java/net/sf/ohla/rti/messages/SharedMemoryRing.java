@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.messages;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+
+/**
+ * A single-producer/single-consumer ring of bytes in shared memory. The head (the next byte to read) and the tail (the
+ * next byte to write) only ever grow, each sits in a cache line of its own and is published with an ordered store
+ * after the bytes it covers have been copied. The peer's position is loaded before any of the bytes it covers are
+ * read. The producer and the consumer each cache the other's position and only re-read it when the cached value says
+ * the ring is full or empty.
+ * <p/>
+ * The positions are aligned longs in native order in the shared memory, stored behind a
+ * {@link SharedMemoryFences#release release fence} and loaded ahead of an {@link SharedMemoryFences#acquire acquire
+ * fence}.
+ */
+public class SharedMemoryRing
+{
+  private static final int CACHE_LINE_LENGTH = 64;
+
+  private static final int HEAD_OFFSET = 0;
+  private static final int TAIL_OFFSET = HEAD_OFFSET + CACHE_LINE_LENGTH;
+
+  private static final int CONTROL_LENGTH = TAIL_OFFSET + CACHE_LINE_LENGTH;
+
+  private final int capacity;
+  private final int mask;
+
+  private final int headOffset;
+  private final int tailOffset;
+
+  private final ByteBuffer control;
+
+  private final ByteBuffer readBuffer;
+  private final ByteBuffer writeBuffer;
+
+  private long head;
+  private long cachedTail;
+
+  private long tail;
+  private long cachedHead;
+
+  /**
+   * @param buffer the shared memory
+   * @param offset where the ring starts in the shared memory, a multiple of the cache line length
+   * @param capacity the number of bytes the ring holds, a power of two
+   */
+  public SharedMemoryRing(MappedByteBuffer buffer, int offset, int capacity)
+  {
+    assert Integer.bitCount(capacity) == 1;
+
+    this.capacity = capacity;
+
+    mask = capacity - 1;
+
+    headOffset = offset + HEAD_OFFSET;
+    tailOffset = offset + TAIL_OFFSET;
+
+    control = buffer.duplicate().order(ByteOrder.nativeOrder());
+
+    ByteBuffer data = buffer.duplicate();
+    data.limit(offset + CONTROL_LENGTH + capacity).position(offset + CONTROL_LENGTH);
+    readBuffer = data.slice();
+    writeBuffer = data.slice();
+
+    head = load(headOffset);
+    tail = load(tailOffset);
+
+    cachedTail = tail;
+    cachedHead = head;
+  }
+
+  /**
+   * Returns the length of the shared memory occupied by a ring of the specified capacity.
+   */
+  public static int length(int capacity)
+  {
+    return CONTROL_LENGTH + capacity;
+  }
+
+  /**
+   * Copies as many of the specified bytes as there is room for, only called by the producer.
+   *
+   * @return the number of bytes copied
+   */
+  public int write(ChannelBuffer buffer, int index, int length)
+  {
+    if (tail - cachedHead + length > capacity)
+    {
+      cachedHead = load(headOffset);
+    }
+
+    int written = Math.min(length, capacity - (int) (tail - cachedHead));
+    if (written > 0)
+    {
+      int position = (int) tail & mask;
+      int wrapped = Math.max(0, position + written - capacity);
+
+      writeBuffer.limit(position + written - wrapped).position(position);
+      buffer.getBytes(index, writeBuffer);
+
+      if (wrapped > 0)
+      {
+        writeBuffer.limit(wrapped).position(0);
+        buffer.getBytes(index + written - wrapped, writeBuffer);
+      }
+
+      tail += written;
+
+      store(tailOffset, tail);
+    }
+    return written;
+  }
+
+  /**
+   * Copies everything that has been written since the last read, only called by the consumer.
+   *
+   * @return the bytes read or {@code null} if the ring is empty
+   */
+  public ChannelBuffer read()
+  {
+    if (cachedTail == head)
+    {
+      cachedTail = load(tailOffset);
+    }
+
+    ChannelBuffer buffer;
+
+    int length = (int) (cachedTail - head);
+    if (length == 0)
+    {
+      buffer = null;
+    }
+    else
+    {
+      buffer = ChannelBuffers.buffer(length);
+
+      int position = (int) head & mask;
+      int wrapped = Math.max(0, position + length - capacity);
+
+      readBuffer.limit(position + length - wrapped).position(position);
+      buffer.writeBytes(readBuffer);
+
+      if (wrapped > 0)
+      {
+        readBuffer.limit(wrapped).position(0);
+        buffer.writeBytes(readBuffer);
+      }
+
+      head += length;
+
+      store(headOffset, head);
+    }
+    return buffer;
+  }
+
+  /**
+   * Loads the peer's position, the bytes it covers are read after it.
+   */
+  private long load(int offset)
+  {
+    long position = control.getLong(offset);
+
+    SharedMemoryFences.acquire();
+
+    return position;
+  }
+
+  /**
+   * Stores this side's position, the bytes it covers have been copied before it.
+   */
+  private void store(int offset, long position)
+  {
+    SharedMemoryFences.release();
+
+    control.putLong(offset, position);
+  }
+}
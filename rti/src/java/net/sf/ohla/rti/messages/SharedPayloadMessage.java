@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.messages;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+
+import com.google.protobuf.MessageLite;
+
+/**
+ * A {@link Message} that is fanned out to many recipients. The bulk of the message (attribute or parameter values) is
+ * encoded once into a shared {@link ChannelBuffer} and only a small per-recipient header is encoded for each
+ * recipient. Because protobuf merges repeated fields, the header followed by the shared payload is a valid encoding of
+ * the complete message.
+ */
+public interface SharedPayloadMessage<ML extends MessageLite, B extends MessageLite.Builder>
+  extends Message<ML, B>
+{
+  /**
+   * Returns the per-recipient portion of this message, or the complete message if there is no shared payload.
+   *
+   * @return the per-recipient portion of this message
+   */
+  MessageLite getHeader();
+
+  /**
+   * Returns {@code true} if this message shares its payload with other recipients. The shared payload is not encoded
+   * until it is asked for, a message passed to a federate in the same JVM never encodes it.
+   *
+   * @return {@code true} if this message shares its payload with other recipients
+   */
+  boolean hasSharedPayload();
+
+  /**
+   * Returns the pre-encoded shared payload, or {@code null} if this message has no shared payload. The returned buffer
+   * is shared between recipients and must not be modified.
+   *
+   * @return the pre-encoded shared payload
+   */
+  ChannelBuffer getSharedPayload();
+}
@@ -26,6 +26,7 @@ import net.sf.ohla.rti.messages.proto.MessageProtos;
 
 import com.google.protobuf.CodedInputStream;
 import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactory;
 import hla.rti1516e.exceptions.CouldNotEncode;
 
 public class TimeAdvanceRequest
@@ -34,14 +35,14 @@ public class TimeAdvanceRequest
 {
   private LogicalTime time;
 
-  public TimeAdvanceRequest(LogicalTime time)
+  public TimeAdvanceRequest(LogicalTimeFactory logicalTimeFactory, LogicalTime time)
     throws CouldNotEncode
   {
     super(FederationExecutionMessageProtos.TimeAdvanceRequest.newBuilder());
 
     this.time = time;
 
-    builder.setTime(LogicalTimes.convert(time));
+    builder.setTime(LogicalTimes.convert(logicalTimeFactory, time));
   }
 
   public TimeAdvanceRequest(CodedInputStream in)
@@ -26,6 +26,7 @@ import net.sf.ohla.rti.messages.proto.MessageProtos;
 
 import com.google.protobuf.CodedInputStream;
 import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactory;
 import hla.rti1516e.exceptions.CouldNotEncode;
 
 public class TimeAdvanceRequestAvailable
@@ -34,14 +35,14 @@ public class TimeAdvanceRequestAvailable
 {
   private LogicalTime time;
 
-  public TimeAdvanceRequestAvailable(LogicalTime time)
+  public TimeAdvanceRequestAvailable(LogicalTimeFactory logicalTimeFactory, LogicalTime time)
     throws CouldNotEncode
   {
     super(FederationExecutionMessageProtos.TimeAdvanceRequestAvailable.newBuilder());
 
     this.time = time;
 
-    builder.setTime(LogicalTimes.convert(time));
+    builder.setTime(LogicalTimes.convert(logicalTimeFactory, time));
   }
 
   public TimeAdvanceRequestAvailable(CodedInputStream in)
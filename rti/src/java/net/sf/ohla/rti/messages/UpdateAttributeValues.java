@@ -19,16 +19,20 @@ package net.sf.ohla.rti.messages;
 import java.io.IOException;
 
 import net.sf.ohla.rti.util.AttributeValues;
+import net.sf.ohla.rti.util.LazyAttributeHandleValueMap;
 import net.sf.ohla.rti.util.LogicalTimes;
 import net.sf.ohla.rti.util.MessageRetractionHandles;
 import net.sf.ohla.rti.util.ObjectInstanceHandles;
 import net.sf.ohla.rti.util.TransportationTypeHandles;
 import net.sf.ohla.rti.federation.FederateProxy;
 import net.sf.ohla.rti.federation.FederationExecution;
+import net.sf.ohla.rti.messages.proto.FederateMessageProtos;
 import net.sf.ohla.rti.messages.proto.FederationExecutionMessageProtos;
 import net.sf.ohla.rti.messages.proto.MessageProtos;
 import net.sf.ohla.rti.proto.OHLAProtos;
 
+import org.jboss.netty.buffer.ChannelBuffer;
+
 import com.google.protobuf.ByteString;
 import com.google.protobuf.CodedInputStream;
 import hla.rti1516e.AttributeHandleValueMap;
@@ -47,6 +51,8 @@ public class UpdateAttributeValues
   private volatile LogicalTime time;
   private volatile MessageRetractionHandle messageRetractionHandle;
 
+  private volatile ChannelBuffer encodedAttributeValues;
+
   public UpdateAttributeValues(FederationExecutionMessageProtos.UpdateAttributeValues messageLite)
   {
     super(messageLite);
@@ -70,15 +76,15 @@ public class UpdateAttributeValues
 
   public UpdateAttributeValues(
     ObjectInstanceHandle objectInstanceHandle, AttributeHandleValueMap attributeValues,
-    TransportationTypeHandle transportationTypeHandle, byte[] tag, OrderType sentOrderType, LogicalTime time,
-    MessageRetractionHandle messageRetractionHandle)
+    TransportationTypeHandle transportationTypeHandle, byte[] tag, OrderType sentOrderType,
+    LogicalTimeFactory logicalTimeFactory, LogicalTime time, MessageRetractionHandle messageRetractionHandle)
   {
     this(objectInstanceHandle, attributeValues, transportationTypeHandle, tag);
 
     this.time = time;
 
     builder.setSentOrderType(OHLAProtos.OrderType.values()[sentOrderType.ordinal()]);
-    builder.setTime(LogicalTimes.convert(time));
+    builder.setTime(LogicalTimes.convert(logicalTimeFactory, time));
     builder.setMessageRetractionHandle(MessageRetractionHandles.convert(messageRetractionHandle));
   }
 
@@ -95,7 +101,26 @@ public class UpdateAttributeValues
 
   public AttributeHandleValueMap getAttributeValues()
   {
-    return AttributeValues.convert(builder.getAttributeValuesList());
+    return new LazyAttributeHandleValueMap(builder.getAttributeValuesList());
+  }
+
+  /**
+   * Returns the attribute values encoded once as the attribute values of a {@code ReflectAttributeValues}. The buffer
+   * is shared by every subscriber that reflects all the attribute values of this update.
+   *
+   * @return the attribute values encoded as the attribute values of a {@code ReflectAttributeValues}
+   */
+  public ChannelBuffer getEncodedAttributeValues()
+  {
+    ChannelBuffer encodedAttributeValues = this.encodedAttributeValues;
+    if (encodedAttributeValues == null)
+    {
+      // racing threads can only encode identical buffers, so there is no need to lock
+      //
+      this.encodedAttributeValues = encodedAttributeValues = Messages.encodeRepeatedField(
+        FederateMessageProtos.ReflectAttributeValues.ATTRIBUTEVALUES_FIELD_NUMBER, builder.getAttributeValuesList());
+    }
+    return encodedAttributeValues;
   }
 
   public byte[] getTag()
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.messages;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.ohla.rti.federation.FederateProxy;
+import net.sf.ohla.rti.federation.FederationExecution;
+import net.sf.ohla.rti.messages.proto.FederationExecutionMessageProtos;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+
+import com.google.protobuf.CodedInputStream;
+
+/**
+ * Receive order updates of many object instances sent as one message. The RTI fans the updates out as if they had
+ * been sent one at a time, except that each reflecting federate is sent its reliable reflections as one
+ * {@code ReflectAttributeValuesBatch}.
+ */
+public class UpdateAttributeValuesBatch
+  extends AbstractMessage<FederationExecutionMessageProtos.UpdateAttributeValuesBatch, FederationExecutionMessageProtos.UpdateAttributeValuesBatch.Builder>
+  implements FederationExecutionMessage
+{
+  private List<UpdateAttributeValues> updates;
+
+  public UpdateAttributeValuesBatch(List<UpdateAttributeValues> updates)
+  {
+    super(FederationExecutionMessageProtos.UpdateAttributeValuesBatch.newBuilder());
+
+    this.updates = updates;
+
+    for (UpdateAttributeValues updateAttributeValues : updates)
+    {
+      builder.addUpdates(updateAttributeValues.getBuilder());
+    }
+  }
+
+  public UpdateAttributeValuesBatch(CodedInputStream in)
+    throws IOException
+  {
+    super(FederationExecutionMessageProtos.UpdateAttributeValuesBatch.newBuilder(), in);
+  }
+
+  public List<UpdateAttributeValues> getUpdates()
+  {
+    if (updates == null)
+    {
+      updates = new ArrayList<>(builder.getUpdatesCount());
+      for (FederationExecutionMessageProtos.UpdateAttributeValues updateAttributeValues : builder.getUpdatesList())
+      {
+        updates.add(new UpdateAttributeValues(updateAttributeValues));
+      }
+    }
+    return updates;
+  }
+
+  @Override
+  public MessageProtos.MessageType getMessageType()
+  {
+    return MessageProtos.MessageType.UPDATE_ATTRIBUTE_VALUES_BATCH;
+  }
+
+  @Override
+  public void execute(FederationExecution federationExecution, FederateProxy federateProxy)
+  {
+    federationExecution.updateAttributeValues(federateProxy, this);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.sf.ohla.rti.messages;
+
+import java.io.IOException;
+
+import net.sf.ohla.rti.util.LogicalTimes;
+import net.sf.ohla.rti.federation.FederateProxy;
+import net.sf.ohla.rti.federation.FederationExecution;
+import net.sf.ohla.rti.messages.proto.FederationExecutionMessageProtos;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+
+import com.google.protobuf.CodedInputStream;
+import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactory;
+
+/**
+ * Sent by a time regulating federate whenever its LOTS changes under distributed time management. The RTI relays it to
+ * the time constrained federates.
+ */
+public class UpdateLOTS
+  extends AbstractMessage<FederationExecutionMessageProtos.UpdateLOTS, FederationExecutionMessageProtos.UpdateLOTS.Builder>
+  implements FederationExecutionMessage
+{
+  private LogicalTime lots;
+
+  public UpdateLOTS(LogicalTimeFactory logicalTimeFactory, LogicalTime lots)
+  {
+    super(FederationExecutionMessageProtos.UpdateLOTS.newBuilder());
+
+    this.lots = lots;
+
+    builder.setLots(LogicalTimes.convert(logicalTimeFactory, lots));
+  }
+
+  public UpdateLOTS(CodedInputStream in)
+    throws IOException
+  {
+    super(FederationExecutionMessageProtos.UpdateLOTS.newBuilder(), in);
+  }
+
+  public LogicalTime getLOTS()
+  {
+    return lots;
+  }
+
+  @Override
+  public MessageProtos.MessageType getMessageType()
+  {
+    return MessageProtos.MessageType.UPDATE_LOTS;
+  }
+
+  @Override
+  public void execute(FederationExecution federationExecution, FederateProxy federateProxy)
+  {
+    lots = LogicalTimes.convert(federationExecution.getTimeManager().getLogicalTimeFactory(), builder.getLots());
+
+    federationExecution.updateLOTS(federateProxy, this);
+  }
+}
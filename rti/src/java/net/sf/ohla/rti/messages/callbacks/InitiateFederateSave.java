@@ -29,7 +29,7 @@ import net.sf.ohla.rti.messages.proto.MessageProtos;
 import com.google.protobuf.CodedInputStream;
 import hla.rti1516e.FederateAmbassador;
 import hla.rti1516e.LogicalTime;
-import hla.rti1516e.exceptions.CouldNotEncode;
+import hla.rti1516e.LogicalTimeFactory;
 import hla.rti1516e.exceptions.FederateInternalError;
 
 public class InitiateFederateSave
@@ -47,14 +47,13 @@ public class InitiateFederateSave
     builder.setLabel(label);
   }
 
-  public InitiateFederateSave(String label, LogicalTime time)
-    throws CouldNotEncode
+  public InitiateFederateSave(String label, LogicalTimeFactory logicalTimeFactory, LogicalTime time)
   {
     this(label);
 
     this.time = time;
 
-    builder.setTime(LogicalTimes.convert(time));
+    builder.setTime(LogicalTimes.convert(logicalTimeFactory, time));
   }
 
   public InitiateFederateSave(CodedInputStream in)
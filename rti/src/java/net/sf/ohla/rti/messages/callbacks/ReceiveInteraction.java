@@ -19,26 +19,34 @@ package net.sf.ohla.rti.messages.callbacks;
 import java.io.IOException;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import net.sf.ohla.rti.util.FederateHandles;
 import net.sf.ohla.rti.util.InteractionClassHandles;
+import net.sf.ohla.rti.util.LazyParameterHandleValueMap;
 import net.sf.ohla.rti.util.LogicalTimes;
 import net.sf.ohla.rti.util.MessageRetractionHandles;
 import net.sf.ohla.rti.util.OrderTypes;
-import net.sf.ohla.rti.util.ParameterValues;
-import net.sf.ohla.rti.util.Regions;
+import net.sf.ohla.rti.util.SentRegionVersions;
 import net.sf.ohla.rti.util.TransportationTypeHandles;
 import net.sf.ohla.rti.federate.Callback;
 import net.sf.ohla.rti.federate.Federate;
+import net.sf.ohla.rti.federate.FederateRegionManager;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eTransportationTypeHandle;
 import net.sf.ohla.rti.messages.AbstractMessage;
 import net.sf.ohla.rti.messages.FederateMessage;
+import net.sf.ohla.rti.messages.SentRegionsMessage;
+import net.sf.ohla.rti.messages.SendInteraction;
+import net.sf.ohla.rti.messages.SharedPayloadMessage;
 import net.sf.ohla.rti.messages.proto.FederateMessageProtos;
 import net.sf.ohla.rti.messages.proto.FederationExecutionMessageProtos;
 import net.sf.ohla.rti.messages.proto.MessageProtos;
 
+import org.jboss.netty.buffer.ChannelBuffer;
+
 import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.MessageLite;
 import hla.rti1516e.DimensionHandle;
 import hla.rti1516e.FederateAmbassador;
 import hla.rti1516e.FederateHandle;
@@ -54,48 +62,94 @@ import hla.rti1516e.exceptions.FederateInternalError;
 
 public class ReceiveInteraction
   extends AbstractMessage<FederateMessageProtos.ReceiveInteraction, FederateMessageProtos.ReceiveInteraction.Builder>
-  implements Callback, FederateMessage
+  implements Callback, FederateMessage,
+             SharedPayloadMessage<FederateMessageProtos.ReceiveInteraction, FederateMessageProtos.ReceiveInteraction.Builder>,
+             SentRegionsMessage<FederateMessageProtos.ReceiveInteraction, FederateMessageProtos.ReceiveInteraction.Builder>
 {
   private Federate federate;
   private LogicalTime time;
   private MessageRetractionHandle messageRetractionHandle;
 
+  /**
+   * The sent regions, until they are encoded.
+   */
+  private Map<RegionHandle, Map<DimensionHandle, RangeBounds>> regions;
+
+  /**
+   * The sent regions as resolved by the receiving federate.
+   */
+  private FederateRegionManager.SentRegions sentRegions;
+
+  /**
+   * The parameter values shared with the other subscribers of the same interaction, if any.
+   */
+  private List<MessageProtos.ParameterValue> sharedParameterValues;
+
+  /**
+   * The interaction the shared parameter values are encoded by, the parameter values are only encoded if this message
+   * is.
+   */
+  private SendInteraction sharingSendInteraction;
+
+  /**
+   * Creates a {@code ReceiveInteraction} for a single subscriber of the specified {@code SendInteraction}. If the
+   * subscriber receives all the parameter values then {@code trimmedParameterValues} is {@code null} and the parameter
+   * values are not copied into this message, instead the parameter values encoded once by the interaction are shared
+   * with every other subscriber.
+   *
+   * @param sendInteraction the interaction being received
+   * @param trimmedParameterValues the parameter values received by the subscriber, or {@code null} for all of them
+   * @param receivedOrderType the received order type
+   * @param producingFederateHandle the handle of the federate that produced the interaction
+   * @param regions the sent regions, or {@code null}
+   */
   public ReceiveInteraction(
-    FederationExecutionMessageProtos.SendInteraction.Builder sendInteraction, ParameterHandleValueMap parameterValues,
+    SendInteraction sendInteraction, List<MessageProtos.ParameterValue> trimmedParameterValues,
     OrderType receivedOrderType, FederateHandle producingFederateHandle,
     Map<RegionHandle, Map<DimensionHandle, RangeBounds>> regions)
   {
     super(FederateMessageProtos.ReceiveInteraction.newBuilder());
 
-    builder.setInteractionClassHandle(sendInteraction.getInteractionClassHandle());
-    builder.addAllParameterValues(ParameterValues.convert(parameterValues));
+    FederationExecutionMessageProtos.SendInteraction.Builder sendInteractionBuilder = sendInteraction.getBuilder();
+
+    builder.setInteractionClassHandle(sendInteractionBuilder.getInteractionClassHandle());
 
-    if (sendInteraction.hasTag())
+    if (trimmedParameterValues == null)
+    {
+      sharedParameterValues = sendInteractionBuilder.getParameterValuesList();
+      sharingSendInteraction = sendInteraction;
+    }
+    else
     {
-      builder.setTag(sendInteraction.getTag());
+      builder.addAllParameterValues(trimmedParameterValues);
     }
 
-    builder.setSentOrderType(sendInteraction.getSentOrderType());
+    if (sendInteractionBuilder.hasTag())
+    {
+      builder.setTag(sendInteractionBuilder.getTag());
+    }
+
+    builder.setSentOrderType(sendInteractionBuilder.getSentOrderType());
     builder.setReceivedOrderType(OrderTypes.convert(receivedOrderType));
-    builder.setTransportationTypeHandle(sendInteraction.getTransportationTypeHandle());
+    builder.setTransportationTypeHandle(sendInteractionBuilder.getTransportationTypeHandle());
 
-    if (sendInteraction.hasTime())
+    if (sendInteractionBuilder.hasTime())
     {
-      builder.setTime(sendInteraction.getTime());
+      builder.setTime(sendInteractionBuilder.getTime());
     }
 
     if (receivedOrderType == OrderType.TIMESTAMP)
     {
-      assert sendInteraction.hasMessageRetractionHandle();
+      assert sendInteractionBuilder.hasMessageRetractionHandle();
 
-      builder.setMessageRetractionHandle(sendInteraction.getMessageRetractionHandle());
+      builder.setMessageRetractionHandle(sendInteractionBuilder.getMessageRetractionHandle());
     }
 
     builder.setProducingFederateHandle(FederateHandles.convert(producingFederateHandle));
 
     if (regions != null && regions.size() > 0)
     {
-      builder.addAllRegions(Regions.convertToProtos(regions.values()));
+      this.regions = regions;
     }
   }
 
@@ -112,7 +166,8 @@ public class ReceiveInteraction
 
   public ParameterHandleValueMap getParameterValues()
   {
-    return ParameterValues.convert(builder.getParameterValuesList());
+    return new LazyParameterHandleValueMap(
+      sharedParameterValues == null ? builder.getParameterValuesList() : sharedParameterValues);
   }
 
   public byte[] getTag()
@@ -150,23 +205,91 @@ public class ReceiveInteraction
     return FederateHandles.convert(builder.getProducingFederateHandle());
   }
 
+  /**
+   * Restricts this message, when it is sent to a multicast group, to the specified federates.
+   *
+   * @param federateHandles the federates this message is meant for
+   */
+  public void setReceivingFederateHandles(Collection<FederateHandle> federateHandles)
+  {
+    builder.clearReceivingFederateHandles();
+    for (FederateHandle federateHandle : federateHandles)
+    {
+      builder.addReceivingFederateHandles(FederateHandles.convert(federateHandle));
+    }
+  }
+
+  /**
+   * Returns {@code true} if this message is meant for the specified federate. A message sent to a multicast group is
+   * only meant for some of the federates that joined the group.
+   *
+   * @param federateHandle the federate that received this message
+   * @return {@code true} if this message is meant for the specified federate
+   */
+  public boolean isReceivingFederate(FederateHandle federateHandle)
+  {
+    return builder.getReceivingFederateHandlesCount() == 0 ||
+           builder.getReceivingFederateHandlesList().contains(FederateHandles.convert(federateHandle));
+  }
+
+  @Override
   public boolean hasSentRegions()
   {
-    return builder.getRegionsCount() > 0;
+    return regions != null || builder.getRegionsCount() > 0;
+  }
+
+  @Override
+  public void encodeSentRegions(SentRegionVersions sentRegionVersions)
+  {
+    if (regions != null)
+    {
+      builder.addAllRegions(sentRegionVersions.convertToProtos(
+        regions, builder.getTransportationTypeHandle() != IEEE1516eTransportationTypeHandle.HLA_BEST_EFFORT.handle));
+      regions = null;
+    }
   }
 
-  public Collection<Map<DimensionHandle, RangeBounds>> getSentRegions()
+  /**
+   * Returns the sent regions as resolved by the receiving federate, or {@code null} if there are none.
+   *
+   * @return the sent regions as resolved by the receiving federate
+   */
+  public FederateRegionManager.SentRegions getSentRegions()
   {
-    Collection<Map<DimensionHandle, RangeBounds>> regions;
-    if (builder.getRegionsCount() == 0)
+    return sentRegions;
+  }
+
+  @Override
+  public FederateMessageProtos.ReceiveInteraction getMessageLite()
+  {
+    FederateMessageProtos.ReceiveInteraction receiveInteraction;
+    if (sharedParameterValues == null)
     {
-      regions = Collections.emptyList();
+      receiveInteraction = builder.build();
     }
     else
     {
-      regions = Regions.convertFromProtos(builder.getRegionsList());
+      receiveInteraction = builder.clone().addAllParameterValues(sharedParameterValues).build();
     }
-    return regions;
+    return receiveInteraction;
+  }
+
+  @Override
+  public MessageLite getHeader()
+  {
+    return builder.build();
+  }
+
+  @Override
+  public boolean hasSharedPayload()
+  {
+    return sharingSendInteraction != null;
+  }
+
+  @Override
+  public ChannelBuffer getSharedPayload()
+  {
+    return sharingSendInteraction == null ? null : sharingSendInteraction.getEncodedParameterValues();
   }
 
   public MessageProtos.MessageType getMessageType()
@@ -194,6 +317,15 @@ public class ReceiveInteraction
       messageRetractionHandle = MessageRetractionHandles.convert(builder.getMessageRetractionHandle());
     }
 
+    if (builder.getRegionsCount() > 0)
+    {
+      // resolved as the messages arrive since the extents of a region are only sent with the first message using them
+      //
+      sentRegions = federate.getRegionManager().resolveSentRegions(
+        builder.getRegionsList(),
+        builder.getTransportationTypeHandle() != IEEE1516eTransportationTypeHandle.HLA_BEST_EFFORT.handle);
+    }
+
     federate.receiveInteraction(this);
   }
 }
@@ -18,27 +18,37 @@ package net.sf.ohla.rti.messages.callbacks;
 
 import java.io.IOException;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
-import net.sf.ohla.rti.util.AttributeValues;
 import net.sf.ohla.rti.util.FederateHandles;
+import net.sf.ohla.rti.util.LazyAttributeHandleValueMap;
 import net.sf.ohla.rti.util.LogicalTimes;
 import net.sf.ohla.rti.util.MessageRetractionHandles;
 import net.sf.ohla.rti.util.ObjectInstanceHandles;
 import net.sf.ohla.rti.util.OrderTypes;
-import net.sf.ohla.rti.util.Regions;
+import net.sf.ohla.rti.util.SentRegionVersions;
 import net.sf.ohla.rti.util.TransportationTypeHandles;
 import net.sf.ohla.rti.federate.Callback;
 import net.sf.ohla.rti.federate.Federate;
+import net.sf.ohla.rti.federate.FederateRegionManager;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eTransportationTypeHandle;
 import net.sf.ohla.rti.messages.AbstractMessage;
 import net.sf.ohla.rti.messages.FederateMessage;
+import net.sf.ohla.rti.messages.SentRegionsMessage;
+import net.sf.ohla.rti.messages.SharedPayloadMessage;
+import net.sf.ohla.rti.messages.UpdateAttributeValues;
 import net.sf.ohla.rti.messages.proto.FederateMessageProtos;
 import net.sf.ohla.rti.messages.proto.FederationExecutionMessageProtos;
 import net.sf.ohla.rti.messages.proto.MessageProtos;
+import net.sf.ohla.rti.proto.OHLAProtos;
+
+import org.jboss.netty.buffer.ChannelBuffer;
 
 import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.MessageLite;
 import hla.rti1516e.AttributeHandleValueMap;
 import hla.rti1516e.DimensionHandle;
 import hla.rti1516e.FederateAmbassador;
@@ -54,51 +64,102 @@ import hla.rti1516e.exceptions.FederateInternalError;
 
 public class ReflectAttributeValues
   extends AbstractMessage<FederateMessageProtos.ReflectAttributeValues, FederateMessageProtos.ReflectAttributeValues.Builder>
-  implements Callback, FederateMessage
+  implements Callback, FederateMessage,
+             SharedPayloadMessage<FederateMessageProtos.ReflectAttributeValues, FederateMessageProtos.ReflectAttributeValues.Builder>,
+             SentRegionsMessage<FederateMessageProtos.ReflectAttributeValues, FederateMessageProtos.ReflectAttributeValues.Builder>
 {
   private Federate federate;
   private LogicalTime time;
   private MessageRetractionHandle messageRetractionHandle;
 
+  /**
+   * The sent regions, until they are encoded.
+   */
+  private Map<RegionHandle, Map<DimensionHandle, RangeBounds>> regions;
+
+  /**
+   * The sent regions as resolved by the receiving federate.
+   */
+  private FederateRegionManager.SentRegions sentRegions;
+
+  /**
+   * The attribute values shared with the other subscribers of the same update, if any.
+   */
+  private List<MessageProtos.AttributeValue> sharedAttributeValues;
+
+  /**
+   * The update the shared attribute values are encoded by, the attribute values are only encoded if this message is.
+   */
+  private UpdateAttributeValues sharingUpdateAttributeValues;
+
+  /**
+   * Creates a {@code ReflectAttributeValues} for a single subscriber of the specified {@code UpdateAttributeValues}.
+   * If the subscriber reflects all the attribute values then {@code trimmedAttributeValues} is {@code null} and the
+   * attribute values are not copied into this message, instead the attribute values encoded once by the update are
+   * shared with every other subscriber.
+   *
+   * @param updateAttributeValues the update being reflected
+   * @param trimmedAttributeValues the attribute values reflected by the subscriber, or {@code null} for all of them
+   * @param receivedOrderType the received order type
+   * @param producingFederateHandle the handle of the federate that produced the update
+   * @param regions the sent regions, or {@code null}
+   */
   public ReflectAttributeValues(
-    FederationExecutionMessageProtos.UpdateAttributeValues.Builder updateAttributeValues,
-    AttributeHandleValueMap attributeValues, OrderType receivedOrderType, FederateHandle producingFederateHandle,
+    UpdateAttributeValues updateAttributeValues, List<MessageProtos.AttributeValue> trimmedAttributeValues,
+    OrderType receivedOrderType, FederateHandle producingFederateHandle,
     Map<RegionHandle, Map<DimensionHandle, RangeBounds>> regions)
   {
     super(FederateMessageProtos.ReflectAttributeValues.newBuilder());
 
-    builder.setObjectInstanceHandle(updateAttributeValues.getObjectInstanceHandle());
-    builder.addAllAttributeValues(AttributeValues.convert(attributeValues));
+    FederationExecutionMessageProtos.UpdateAttributeValues.Builder updateAttributeValuesBuilder =
+      updateAttributeValues.getBuilder();
+
+    builder.setObjectInstanceHandle(updateAttributeValuesBuilder.getObjectInstanceHandle());
+
+    if (trimmedAttributeValues == null)
+    {
+      sharedAttributeValues = updateAttributeValuesBuilder.getAttributeValuesList();
+      sharingUpdateAttributeValues = updateAttributeValues;
+    }
+    else
+    {
+      builder.addAllAttributeValues(trimmedAttributeValues);
+    }
 
-    if (updateAttributeValues.hasTag())
+    if (updateAttributeValuesBuilder.hasTag())
     {
-      builder.setTag(updateAttributeValues.getTag());
+      builder.setTag(updateAttributeValuesBuilder.getTag());
     }
 
-    builder.setSentOrderType(updateAttributeValues.getSentOrderType());
+    builder.setSentOrderType(updateAttributeValuesBuilder.getSentOrderType());
     builder.setReceivedOrderType(OrderTypes.convert(receivedOrderType));
-    builder.setTransportationTypeHandle(updateAttributeValues.getTransportationTypeHandle());
+    builder.setTransportationTypeHandle(updateAttributeValuesBuilder.getTransportationTypeHandle());
 
-    if (updateAttributeValues.hasTime())
+    if (updateAttributeValuesBuilder.hasTime())
     {
-      builder.setTime(updateAttributeValues.getTime());
+      builder.setTime(updateAttributeValuesBuilder.getTime());
     }
 
     if (receivedOrderType == OrderType.TIMESTAMP)
     {
-      assert updateAttributeValues.hasMessageRetractionHandle();
+      assert updateAttributeValuesBuilder.hasMessageRetractionHandle();
 
-      builder.setMessageRetractionHandle(updateAttributeValues.getMessageRetractionHandle());
+      builder.setMessageRetractionHandle(updateAttributeValuesBuilder.getMessageRetractionHandle());
     }
 
     builder.setProducingFederateHandle(FederateHandles.convert(producingFederateHandle));
 
     if (regions != null && regions.size() > 0)
     {
-      builder.addAllRegions(Regions.convertToProtos(regions.values()));
+      this.regions = regions;
     }
   }
 
+  public ReflectAttributeValues(FederateMessageProtos.ReflectAttributeValues messageLite)
+  {
+    super(messageLite);
+  }
+
   public ReflectAttributeValues(CodedInputStream in)
     throws IOException
   {
@@ -112,7 +173,7 @@ public class ReflectAttributeValues
 
   public AttributeHandleValueMap getAttributeValues()
   {
-    return AttributeValues.convert(builder.getAttributeValuesList());
+    return new LazyAttributeHandleValueMap(getAttributeValuesList());
   }
 
   public byte[] getTag()
@@ -125,6 +186,11 @@ public class ReflectAttributeValues
     return OrderType.values()[builder.getSentOrderType().ordinal()];
   }
 
+  public OrderType getReceivedOrderType()
+  {
+    return OrderTypes.convert(builder.getReceivedOrderType());
+  }
+
   public TransportationTypeHandle getTransportationTypeHandle()
   {
     return TransportationTypeHandles.convert(builder.getTransportationTypeHandle());
@@ -145,23 +211,197 @@ public class ReflectAttributeValues
     return FederateHandles.convert(builder.getProducingFederateHandle());
   }
 
+  /**
+   * Restricts this message, when it is sent to a multicast group, to the specified federates.
+   *
+   * @param federateHandles the federates this message is meant for
+   */
+  public void setReceivingFederateHandles(Collection<FederateHandle> federateHandles)
+  {
+    builder.clearReceivingFederateHandles();
+    for (FederateHandle federateHandle : federateHandles)
+    {
+      builder.addReceivingFederateHandles(FederateHandles.convert(federateHandle));
+    }
+  }
+
+  /**
+   * Returns {@code true} if this message is meant for the specified federate. A message sent to a multicast group is
+   * only meant for some of the federates that joined the group.
+   *
+   * @param federateHandle the federate that received this message
+   * @return {@code true} if this message is meant for the specified federate
+   */
+  public boolean isReceivingFederate(FederateHandle federateHandle)
+  {
+    return builder.getReceivingFederateHandlesCount() == 0 ||
+           builder.getReceivingFederateHandlesList().contains(FederateHandles.convert(federateHandle));
+  }
+
+  @Override
   public boolean hasSentRegions()
   {
-    return builder.getRegionsCount() > 0;
+    return regions != null || builder.getRegionsCount() > 0;
+  }
+
+  @Override
+  public void encodeSentRegions(SentRegionVersions sentRegionVersions)
+  {
+    if (regions != null)
+    {
+      builder.addAllRegions(sentRegionVersions.convertToProtos(
+        regions, builder.getTransportationTypeHandle() != IEEE1516eTransportationTypeHandle.HLA_BEST_EFFORT.handle));
+      regions = null;
+    }
+  }
+
+  /**
+   * Returns the sent regions as resolved by the receiving federate, or {@code null} if there are none.
+   *
+   * @return the sent regions as resolved by the receiving federate
+   */
+  public FederateRegionManager.SentRegions getSentRegions()
+  {
+    return sentRegions;
+  }
+
+  /**
+   * Returns {@code true} if this message can take the place of the specified undelivered message, that is both are
+   * received order reflections of the same object instance over the same transportation and this message carries every
+   * attribute the other does.
+   *
+   * @param reflectAttributeValues the undelivered message
+   * @return {@code true} if delivering this message makes delivering the other one unnecessary
+   */
+  public boolean supersedes(ReflectAttributeValues reflectAttributeValues)
+  {
+    boolean supersedes =
+      builder.getReceivedOrderType() == OHLAProtos.OrderType.RECEIVE &&
+      reflectAttributeValues.builder.getReceivedOrderType() == OHLAProtos.OrderType.RECEIVE &&
+      builder.getObjectInstanceHandle().equals(reflectAttributeValues.builder.getObjectInstanceHandle()) &&
+      builder.getTransportationTypeHandle() == reflectAttributeValues.builder.getTransportationTypeHandle();
+    if (supersedes)
+    {
+      List<MessageProtos.AttributeValue> attributeValues = getAttributeValuesList();
+      for (MessageProtos.AttributeValue other : reflectAttributeValues.getAttributeValuesList())
+      {
+        supersedes &= contains(attributeValues, other.getAttributeHandle());
+      }
+    }
+    return supersedes;
+  }
+
+  /**
+   * Returns {@code true} if the specified later message can be merged into this undelivered message, that is both are
+   * received order reflections of the same object instance produced by the same federate over the same transportation
+   * and through the same regions.
+   *
+   * @param reflectAttributeValues the later message
+   * @return {@code true} if the specified later message can be merged into this undelivered message
+   */
+  public boolean canConflate(ReflectAttributeValues reflectAttributeValues)
+  {
+    FederateMessageProtos.ReflectAttributeValues.Builder other = reflectAttributeValues.builder;
+    return builder.getReceivedOrderType() == OHLAProtos.OrderType.RECEIVE &&
+           other.getReceivedOrderType() == OHLAProtos.OrderType.RECEIVE &&
+           builder.getSentOrderType() == other.getSentOrderType() &&
+           builder.getObjectInstanceHandle().equals(other.getObjectInstanceHandle()) &&
+           builder.getProducingFederateHandle() == other.getProducingFederateHandle() &&
+           builder.getTransportationTypeHandle() == other.getTransportationTypeHandle() &&
+           builder.getRegionsList().equals(other.getRegionsList());
+  }
+
+  /**
+   * Merges the specified later message into this undelivered message. The later value of an attribute reflected by
+   * both wins, as do the later tag and time.
+   *
+   * @param reflectAttributeValues the later message, see {@link #canConflate(ReflectAttributeValues)}
+   * @return the number of attribute values in this message replaced by the later ones
+   */
+  public int conflate(ReflectAttributeValues reflectAttributeValues)
+  {
+    assert canConflate(reflectAttributeValues);
+
+    List<MessageProtos.AttributeValue> laterAttributeValues = reflectAttributeValues.getAttributeValuesList();
+    List<MessageProtos.AttributeValue> attributeValues = getAttributeValuesList();
+
+    List<MessageProtos.AttributeValue> conflatedAttributeValues =
+      new ArrayList<>(attributeValues.size() + laterAttributeValues.size());
+
+    int replaced = 0;
+    for (MessageProtos.AttributeValue attributeValue : attributeValues)
+    {
+      if (contains(laterAttributeValues, attributeValue.getAttributeHandle()))
+      {
+        replaced++;
+      }
+      else
+      {
+        conflatedAttributeValues.add(attributeValue);
+      }
+    }
+    conflatedAttributeValues.addAll(laterAttributeValues);
+
+    // the values are no longer the same as the other subscribers'
+    //
+    sharedAttributeValues = null;
+    sharingUpdateAttributeValues = null;
+
+    builder.clearAttributeValues().addAllAttributeValues(conflatedAttributeValues);
+
+    FederateMessageProtos.ReflectAttributeValues.Builder other = reflectAttributeValues.builder;
+    if (other.hasTag())
+    {
+      builder.setTag(other.getTag());
+    }
+    else
+    {
+      builder.clearTag();
+    }
+
+    if (other.hasTime())
+    {
+      builder.setTime(other.getTime());
+    }
+    else
+    {
+      builder.clearTime();
+    }
+
+    return replaced;
   }
 
-  public Collection<Map<DimensionHandle, RangeBounds>> getSentRegions()
+  @Override
+  public FederateMessageProtos.ReflectAttributeValues getMessageLite()
   {
-    Collection<Map<DimensionHandle, RangeBounds>> regions;
-    if (builder.getRegionsCount() == 0)
+    FederateMessageProtos.ReflectAttributeValues reflectAttributeValues;
+    if (sharedAttributeValues == null)
     {
-      regions = Collections.emptyList();
+      reflectAttributeValues = builder.build();
     }
     else
     {
-      regions = Regions.convertFromProtos(builder.getRegionsList());
+      reflectAttributeValues = builder.clone().addAllAttributeValues(sharedAttributeValues).build();
     }
-    return regions;
+    return reflectAttributeValues;
+  }
+
+  @Override
+  public MessageLite getHeader()
+  {
+    return builder.build();
+  }
+
+  @Override
+  public boolean hasSharedPayload()
+  {
+    return sharingUpdateAttributeValues != null;
+  }
+
+  @Override
+  public ChannelBuffer getSharedPayload()
+  {
+    return sharingUpdateAttributeValues == null ? null : sharingUpdateAttributeValues.getEncodedAttributeValues();
   }
 
   @Override
@@ -179,6 +419,19 @@ public class ReflectAttributeValues
 
   @Override
   public void execute(Federate federate)
+  {
+    received(federate);
+
+    federate.reflectAttributeValues(this);
+  }
+
+  /**
+   * Converts the time, message retraction handle and sent regions of this message as it is received by the specified
+   * federate.
+   *
+   * @param federate the receiving federate
+   */
+  void received(Federate federate)
   {
     this.federate = federate;
 
@@ -192,6 +445,28 @@ public class ReflectAttributeValues
       messageRetractionHandle = MessageRetractionHandles.convert(builder.getMessageRetractionHandle());
     }
 
-    federate.reflectAttributeValues(this);
+    if (builder.getRegionsCount() > 0)
+    {
+      // resolved as the messages arrive since the extents of a region are only sent with the first message using them
+      //
+      sentRegions = federate.getRegionManager().resolveSentRegions(
+        builder.getRegionsList(),
+        builder.getTransportationTypeHandle() != IEEE1516eTransportationTypeHandle.HLA_BEST_EFFORT.handle);
+    }
+  }
+
+  private List<MessageProtos.AttributeValue> getAttributeValuesList()
+  {
+    return sharedAttributeValues == null ? builder.getAttributeValuesList() : sharedAttributeValues;
+  }
+
+  private static boolean contains(List<MessageProtos.AttributeValue> attributeValues, int attributeHandle)
+  {
+    boolean found = false;
+    for (int i = 0; i < attributeValues.size() && !found; i++)
+    {
+      found = attributeValues.get(i).getAttributeHandle() == attributeHandle;
+    }
+    return found;
   }
 }
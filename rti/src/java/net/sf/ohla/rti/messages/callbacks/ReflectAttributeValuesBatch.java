@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.messages.callbacks;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.ohla.rti.util.SentRegionVersions;
+import net.sf.ohla.rti.federate.Federate;
+import net.sf.ohla.rti.messages.AbstractMessage;
+import net.sf.ohla.rti.messages.FederateMessage;
+import net.sf.ohla.rti.messages.SentRegionsMessage;
+import net.sf.ohla.rti.messages.proto.FederateMessageProtos;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+
+import com.google.protobuf.CodedInputStream;
+
+/**
+ * The reliable, receive order reflections of an {@code UpdateAttributeValuesBatch} meant for one federate. The
+ * reflections are queued as separate callbacks.
+ */
+public class ReflectAttributeValuesBatch
+  extends AbstractMessage<FederateMessageProtos.ReflectAttributeValuesBatch, FederateMessageProtos.ReflectAttributeValuesBatch.Builder>
+  implements FederateMessage,
+             SentRegionsMessage<FederateMessageProtos.ReflectAttributeValuesBatch, FederateMessageProtos.ReflectAttributeValuesBatch.Builder>
+{
+  private List<ReflectAttributeValues> reflectAttributeValues;
+
+  public ReflectAttributeValuesBatch()
+  {
+    super(FederateMessageProtos.ReflectAttributeValuesBatch.newBuilder());
+
+    reflectAttributeValues = new ArrayList<>();
+  }
+
+  public ReflectAttributeValuesBatch(CodedInputStream in)
+    throws IOException
+  {
+    super(FederateMessageProtos.ReflectAttributeValuesBatch.newBuilder(), in);
+  }
+
+  public void add(ReflectAttributeValues reflectAttributeValues)
+  {
+    this.reflectAttributeValues.add(reflectAttributeValues);
+  }
+
+  public List<ReflectAttributeValues> getReflectAttributeValues()
+  {
+    if (reflectAttributeValues == null)
+    {
+      reflectAttributeValues = new ArrayList<>(builder.getReflectAttributeValuesCount());
+      for (FederateMessageProtos.ReflectAttributeValues reflectAttributeValues :
+        builder.getReflectAttributeValuesList())
+      {
+        this.reflectAttributeValues.add(new ReflectAttributeValues(reflectAttributeValues));
+      }
+    }
+    return reflectAttributeValues;
+  }
+
+  @Override
+  public boolean hasSentRegions()
+  {
+    List<ReflectAttributeValues> reflectAttributeValues = getReflectAttributeValues();
+
+    boolean hasSentRegions = false;
+    for (int i = 0; i < reflectAttributeValues.size() && !hasSentRegions; i++)
+    {
+      hasSentRegions = reflectAttributeValues.get(i).hasSentRegions();
+    }
+    return hasSentRegions;
+  }
+
+  @Override
+  public void encodeSentRegions(SentRegionVersions sentRegionVersions)
+  {
+    for (ReflectAttributeValues reflectAttributeValues : getReflectAttributeValues())
+    {
+      reflectAttributeValues.encodeSentRegions(sentRegionVersions);
+    }
+  }
+
+  @Override
+  public FederateMessageProtos.ReflectAttributeValuesBatch getMessageLite()
+  {
+    // the reflections might share their attribute values with other subscribers, so they are only copied into the
+    // batch when it is encoded
+    //
+    builder.clearReflectAttributeValues();
+    for (ReflectAttributeValues reflectAttributeValues : getReflectAttributeValues())
+    {
+      builder.addReflectAttributeValues(reflectAttributeValues.getMessageLite());
+    }
+    return builder.build();
+  }
+
+  @Override
+  public MessageProtos.MessageType getMessageType()
+  {
+    return MessageProtos.MessageType.REFLECT_ATTRIBUTE_VALUES_BATCH;
+  }
+
+  @Override
+  public void execute(Federate federate)
+  {
+    for (ReflectAttributeValues reflectAttributeValues : getReflectAttributeValues())
+    {
+      reflectAttributeValues.received(federate);
+    }
+
+    federate.reflectAttributeValues(reflectAttributeValues);
+  }
+}
@@ -20,7 +20,9 @@ import java.io.IOException;
 
 import net.sf.ohla.rti.util.MessageRetractionHandles;
 import net.sf.ohla.rti.federate.Callback;
+import net.sf.ohla.rti.federate.Federate;
 import net.sf.ohla.rti.messages.AbstractMessage;
+import net.sf.ohla.rti.messages.FederateMessage;
 import net.sf.ohla.rti.messages.proto.FederateMessageProtos;
 import net.sf.ohla.rti.messages.proto.MessageProtos;
 
@@ -31,7 +33,7 @@ import hla.rti1516e.exceptions.FederateInternalError;
 
 public class RequestRetraction
   extends AbstractMessage<FederateMessageProtos.RequestRetraction, FederateMessageProtos.RequestRetraction.Builder>
-  implements Callback
+  implements Callback, FederateMessage
 {
   public RequestRetraction(MessageRetractionHandle messageRetractionHandle)
   {
@@ -52,10 +54,21 @@ public class RequestRetraction
     return MessageProtos.MessageType.REQUEST_RETRACTION;
   }
 
+  public MessageRetractionHandle getMessageRetractionHandle()
+  {
+    return MessageRetractionHandles.convert(builder.getMessageRetractionHandle());
+  }
+
   @Override
   public void execute(FederateAmbassador federateAmbassador)
     throws FederateInternalError
   {
     federateAmbassador.requestRetraction(MessageRetractionHandles.convert(builder.getMessageRetractionHandle()));
   }
+
+  @Override
+  public void execute(Federate federate)
+  {
+    federate.requestRetraction(this);
+  }
 }
@@ -29,6 +29,7 @@ import net.sf.ohla.rti.messages.proto.MessageProtos;
 import com.google.protobuf.CodedInputStream;
 import hla.rti1516e.FederateAmbassador;
 import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactory;
 import hla.rti1516e.exceptions.FederateInternalError;
 
 public class TimeAdvanceGrant
@@ -38,13 +39,13 @@ implements Callback, FederateMessage
   private Federate federate;
   private LogicalTime time;
 
-  public TimeAdvanceGrant(LogicalTime time)
+  public TimeAdvanceGrant(LogicalTimeFactory logicalTimeFactory, LogicalTime time)
   {
     super(FederateMessageProtos.TimeAdvanceGrant.newBuilder());
 
     this.time = time;
 
-    builder.setTime(LogicalTimes.convert(time));
+    builder.setTime(LogicalTimes.convert(logicalTimeFactory, time));
   }
 
   public TimeAdvanceGrant(CodedInputStream in)
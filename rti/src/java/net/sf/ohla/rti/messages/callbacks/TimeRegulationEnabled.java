@@ -29,6 +29,7 @@ import net.sf.ohla.rti.messages.proto.MessageProtos;
 import com.google.protobuf.CodedInputStream;
 import hla.rti1516e.FederateAmbassador;
 import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactory;
 import hla.rti1516e.exceptions.FederateInternalError;
 
 public class TimeRegulationEnabled
@@ -39,13 +40,13 @@ implements Callback, FederateMessage
   private Federate federate;
   private LogicalTime time;
 
-  public TimeRegulationEnabled(LogicalTime time)
+  public TimeRegulationEnabled(LogicalTimeFactory logicalTimeFactory, LogicalTime time)
   {
     super(FederateMessageProtos.TimeRegulationEnabled.newBuilder());
 
     this.time = time;
 
-    builder.setTime(LogicalTimes.convert(time));
+    builder.setTime(LogicalTimes.convert(logicalTimeFactory, time));
   }
 
   public TimeRegulationEnabled(CodedInputStream in)
@@ -33,22 +33,18 @@ import hla.rti1516e.AttributeSetRegionSetPairList;
 
 public class AttributeHandles
 {
-  private static final IEEE1516eAttributeHandle[] cache;
-  static
+  private static final HandleCache<IEEE1516eAttributeHandle> cache = new HandleCache<IEEE1516eAttributeHandle>(128)
   {
-    // TODO: get cache size from properties
-
-    cache = new IEEE1516eAttributeHandle[128];
-
-    for (int i = 1; i < cache.length; i++)
+    @Override
+    protected IEEE1516eAttributeHandle create(int handle)
     {
-      cache[i] = new IEEE1516eAttributeHandle(i);
+      return new IEEE1516eAttributeHandle(handle);
     }
-  }
+  };
 
   public static AttributeHandle convert(int attributeHandle)
   {
-    return attributeHandle < cache.length ? cache[attributeHandle] : new IEEE1516eAttributeHandle(attributeHandle);
+    return cache.get(attributeHandle);
   }
 
   public static int convert(AttributeHandle attributeHandle)
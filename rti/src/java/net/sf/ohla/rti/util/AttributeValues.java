@@ -41,15 +41,21 @@ public class AttributeValues
     return attributeValues;
   }
 
+  @SuppressWarnings("unchecked")
   public static Collection<MessageProtos.AttributeValue> convert(AttributeHandleValueMap attributeValues)
   {
-    List<MessageProtos.AttributeValue> attributeValueProtos = new ArrayList<>(attributeValues.size());
-    for (AttributeHandleValueMap.Entry<AttributeHandle, byte[]> entry : attributeValues.entrySet())
+    List<MessageProtos.AttributeValue> attributeValueProtos = attributeValues instanceof ProtoValueMap ?
+      ((ProtoValueMap<MessageProtos.AttributeValue>) attributeValues).getValueProtos() : null;
+    if (attributeValueProtos == null)
     {
-      attributeValueProtos.add(
-        MessageProtos.AttributeValue.newBuilder().setAttributeHandle(
-          AttributeHandles.convert(entry.getKey())).setValue(
-          ByteString.copyFrom(entry.getValue())).build());
+      attributeValueProtos = new ArrayList<>(attributeValues.size());
+      for (AttributeHandleValueMap.Entry<AttributeHandle, byte[]> entry : attributeValues.entrySet())
+      {
+        attributeValueProtos.add(
+          MessageProtos.AttributeValue.newBuilder().setAttributeHandle(
+            AttributeHandles.convert(entry.getKey())).setValue(
+            ByteString.copyFrom(entry.getValue())).build());
+      }
     }
     return attributeValueProtos;
   }
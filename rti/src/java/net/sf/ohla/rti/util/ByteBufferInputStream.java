@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.util;
+
+import java.io.InputStream;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An {@code InputStream} that reads a sequence of {@link ByteBuffer}s one after the other, typically the memory
+ * mapped extents of a file. The buffers are read through duplicates, their positions are left alone.
+ */
+public class ByteBufferInputStream
+  extends InputStream
+{
+  private final Iterator<? extends ByteBuffer> buffers;
+
+  private ByteBuffer buffer;
+
+  public ByteBufferInputStream(List<? extends ByteBuffer> buffers)
+  {
+    this.buffers = buffers.iterator();
+  }
+
+  @Override
+  public int read()
+  {
+    return hasRemaining() ? buffer.get() & 0xff : -1;
+  }
+
+  @Override
+  public int read(byte[] b, int offset, int length)
+  {
+    int bytesRead;
+    if (length == 0)
+    {
+      bytesRead = 0;
+    }
+    else if (hasRemaining())
+    {
+      bytesRead = Math.min(length, buffer.remaining());
+      buffer.get(b, offset, bytesRead);
+    }
+    else
+    {
+      bytesRead = -1;
+    }
+    return bytesRead;
+  }
+
+  @Override
+  public long skip(long n)
+  {
+    long skipped = 0L;
+    while (skipped < n && hasRemaining())
+    {
+      int bytesSkipped = (int) Math.min(n - skipped, buffer.remaining());
+      buffer.position(buffer.position() + bytesSkipped);
+      skipped += bytesSkipped;
+    }
+    return skipped;
+  }
+
+  @Override
+  public int available()
+  {
+    return buffer == null ? 0 : buffer.remaining();
+  }
+
+  private boolean hasRemaining()
+  {
+    while ((buffer == null || !buffer.hasRemaining()) && buffers.hasNext())
+    {
+      buffer = buffers.next().duplicate();
+    }
+    return buffer != null && buffer.hasRemaining();
+  }
+}
@@ -28,22 +28,18 @@ import hla.rti1516e.DimensionHandleSet;
 
 public class DimensionHandles
 {
-  private static final IEEE1516eDimensionHandle[] cache;
-  static
+  private static final HandleCache<IEEE1516eDimensionHandle> cache = new HandleCache<IEEE1516eDimensionHandle>(128)
   {
-    // TODO: get cache size from properties
-
-    cache = new IEEE1516eDimensionHandle[128];
-
-    for (int i = 1; i < cache.length; i++)
+    @Override
+    protected IEEE1516eDimensionHandle create(int handle)
     {
-      cache[i] = new IEEE1516eDimensionHandle(i);
+      return new IEEE1516eDimensionHandle(handle);
     }
-  }
+  };
 
   public static DimensionHandle convert(int dimensionHandle)
   {
-    return dimensionHandle < cache.length ? cache[dimensionHandle] : new IEEE1516eDimensionHandle(dimensionHandle);
+    return cache.get(dimensionHandle);
   }
 
   public static int convert(DimensionHandle dimensionHandle)
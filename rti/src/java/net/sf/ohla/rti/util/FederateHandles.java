@@ -28,22 +28,18 @@ import hla.rti1516e.FederateHandleSet;
 
 public class FederateHandles
 {
-  private static final IEEE1516eFederateHandle[] cache;
-  static
+  private static final HandleCache<IEEE1516eFederateHandle> cache = new HandleCache<IEEE1516eFederateHandle>(128)
   {
-    // TODO: get cache size from properties
-
-    cache = new IEEE1516eFederateHandle[128];
-
-    for (int i = 1; i < cache.length; i++)
+    @Override
+    protected IEEE1516eFederateHandle create(int handle)
     {
-      cache[i] = new IEEE1516eFederateHandle(i);
+      return new IEEE1516eFederateHandle(handle);
     }
-  }
+  };
 
   public static FederateHandle convert(int federateHandle)
   {
-    return federateHandle < cache.length ? cache[federateHandle] : new IEEE1516eFederateHandle(federateHandle);
+    return cache.get(federateHandle);
   }
 
   public static int convert(FederateHandle federateHandle)
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.util;
+
+import java.util.Arrays;
+
+/**
+ * Interns the handle instances converted from their primitive values so the same handle is not allocated every time it
+ * comes off the wire. The cache grows as larger handles are seen, up to the size given by the
+ * {@link #OHLA_RTI_HANDLE_CACHE_SIZE_PROPERTY} property; handles beyond that are created each time.
+ * <p/>
+ * Two threads converting the same uncached handle at once may each create an instance, which is harmless since handles
+ * are compared by value.
+ * <p/>
+ * Handle 0 is never assigned and converts to {@code null}.
+ */
+public abstract class HandleCache<H>
+{
+  public static final String OHLA_RTI_HANDLE_CACHE_SIZE_PROPERTY = "ohla.rti.handleCache.size";
+
+  public static final int DEFAULT_HANDLE_CACHE_SIZE = 65536;
+
+  private static final int MAX_SIZE = Math.max(0, Integer.getInteger(
+    OHLA_RTI_HANDLE_CACHE_SIZE_PROPERTY, DEFAULT_HANDLE_CACHE_SIZE));
+
+  private volatile Object[] handles;
+
+  protected HandleCache(int initialSize)
+  {
+    handles = new Object[Math.min(initialSize, MAX_SIZE)];
+  }
+
+  protected abstract H create(int handle);
+
+  @SuppressWarnings("unchecked")
+  public H get(int handle)
+  {
+    H h;
+    if (handle == 0)
+    {
+      h = null;
+    }
+    else if (handle < 0 || handle >= MAX_SIZE)
+    {
+      h = create(handle);
+    }
+    else
+    {
+      Object[] handles = this.handles;
+      if (handle >= handles.length)
+      {
+        handles = grow(handle);
+      }
+
+      h = (H) handles[handle];
+      if (h == null)
+      {
+        handles[handle] = h = create(handle);
+      }
+    }
+    return h;
+  }
+
+  private synchronized Object[] grow(int handle)
+  {
+    Object[] handles = this.handles;
+    if (handle >= handles.length)
+    {
+      handles = Arrays.copyOf(handles, (int) Math.min(MAX_SIZE, Math.max(handle + 1L, handles.length * 2L)));
+      this.handles = handles;
+    }
+    return handles;
+  }
+}
@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.util;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A set of handles kept in an open addressing table keyed by the primitive value of each handle. Handles are compared
+ * by their primitive values instead of their {@code equals} methods and adding a handle does not allocate an entry
+ * for it. The handles themselves are kept so that iterating over the set returns the handles that were added.
+ * <p/>
+ * Handles the subclass does not know the primitive value of, see {@link #isHandle(Object)}, such as the handles of
+ * another RTI implementation, are kept in a regular {@link HashSet} on the side and compared by their {@code equals}
+ * methods.
+ */
+public abstract class HandleSet<H>
+  extends AbstractSet<H>
+  implements Cloneable, Serializable
+{
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Marks a slot whose handle was removed, lookups probe past it and adds reuse it.
+   */
+  private static final Object REMOVED = new Object();
+
+  private static final int MIN_CAPACITY = 8;
+
+  private transient long[] keys;
+  private transient Object[] handles;
+
+  private transient int size;
+
+  /**
+   * The number of slots that are not empty, including the removed ones.
+   */
+  private transient int used;
+
+  private transient int modifications;
+
+  /**
+   * The handles the subclass does not know the primitive value of, if any.
+   */
+  private transient Set<H> others;
+
+  protected HandleSet()
+  {
+    this(MIN_CAPACITY / 2);
+  }
+
+  protected HandleSet(int initialCapacity)
+  {
+    allocate(capacityFor(initialCapacity));
+  }
+
+  protected HandleSet(HandleSet<H> handles)
+  {
+    keys = handles.keys.clone();
+    this.handles = handles.handles.clone();
+    size = handles.size;
+    used = handles.used;
+
+    if (handles.others != null)
+    {
+      others = new HashSet<>(handles.others);
+    }
+  }
+
+  /**
+   * Returns {@code true} if the specified object is a handle whose primitive value is known.
+   *
+   * @param o the object
+   * @return {@code true} if the specified object is a handle whose primitive value is known
+   */
+  protected abstract boolean isHandle(Object o);
+
+  /**
+   * Returns the primitive value of the specified handle.
+   *
+   * @param handle the handle, see {@link #isHandle(Object)}
+   * @return the primitive value of the specified handle
+   */
+  protected abstract long getKey(Object handle);
+
+  @Override
+  public int size()
+  {
+    return others == null ? size : size + others.size();
+  }
+
+  @Override
+  public boolean contains(Object o)
+  {
+    return isHandle(o) ? indexOf(getKey(o)) >= 0 : others != null && others.contains(o);
+  }
+
+  @Override
+  public boolean add(H handle)
+  {
+    boolean added;
+    if (isHandle(handle))
+    {
+      long key = getKey(handle);
+
+      added = indexOf(key) < 0;
+      if (added)
+      {
+        if (used + 1 > keys.length - keys.length / 4)
+        {
+          // grow if the set is full of handles, otherwise just clear out the removed slots
+          //
+          allocate(size + 1 > keys.length / 2 ? keys.length * 2 : keys.length);
+        }
+
+        int index = probe(key);
+        if (handles[index] == null)
+        {
+          used++;
+        }
+        keys[index] = key;
+        handles[index] = handle;
+
+        size++;
+        modifications++;
+      }
+    }
+    else
+    {
+      if (others == null)
+      {
+        others = new HashSet<>();
+      }
+
+      added = others.add(handle);
+      if (added)
+      {
+        modifications++;
+      }
+    }
+    return added;
+  }
+
+  @Override
+  public boolean remove(Object o)
+  {
+    boolean removed;
+    if (isHandle(o))
+    {
+      int index = indexOf(getKey(o));
+      removed = index >= 0;
+      if (removed)
+      {
+        removeAt(index);
+      }
+    }
+    else
+    {
+      removed = others != null && others.remove(o);
+      if (removed)
+      {
+        modifications++;
+      }
+    }
+    return removed;
+  }
+
+  @Override
+  public void clear()
+  {
+    if (used > 0)
+    {
+      Arrays.fill(handles, null);
+
+      size = 0;
+      used = 0;
+      modifications++;
+    }
+
+    if (others != null)
+    {
+      others = null;
+      modifications++;
+    }
+  }
+
+  @Override
+  public Iterator<H> iterator()
+  {
+    return new HandleIterator();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public HandleSet<H> clone()
+  {
+    try
+    {
+      HandleSet<H> clone = (HandleSet<H>) super.clone();
+      clone.keys = keys.clone();
+      clone.handles = handles.clone();
+      clone.modifications = 0;
+      clone.others = others == null ? null : new HashSet<>(others);
+      return clone;
+    }
+    catch (CloneNotSupportedException cnse)
+    {
+      throw new InternalError();
+    }
+  }
+
+  private int indexOf(long key)
+  {
+    int mask = keys.length - 1;
+    int index = hash(key) & mask;
+
+    Object handle;
+    while ((handle = handles[index]) != null && (handle == REMOVED || keys[index] != key))
+    {
+      index = (index + 1) & mask;
+    }
+    return handle == null ? -1 : index;
+  }
+
+  /**
+   * Returns the slot a handle that is not in the set is added to.
+   */
+  private int probe(long key)
+  {
+    int mask = keys.length - 1;
+    int index = hash(key) & mask;
+
+    Object handle;
+    while ((handle = handles[index]) != null && handle != REMOVED)
+    {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  private void removeAt(int index)
+  {
+    handles[index] = REMOVED;
+
+    size--;
+    modifications++;
+  }
+
+  private void allocate(int capacity)
+  {
+    long[] oldKeys = keys;
+    Object[] oldHandles = handles;
+
+    keys = new long[capacity];
+    handles = new Object[capacity];
+    used = size;
+
+    if (oldHandles != null)
+    {
+      for (int i = 0; i < oldHandles.length; i++)
+      {
+        Object handle = oldHandles[i];
+        if (handle != null && handle != REMOVED)
+        {
+          int index = probe(oldKeys[i]);
+          keys[index] = oldKeys[i];
+          handles[index] = handle;
+        }
+      }
+    }
+  }
+
+  private void writeObject(ObjectOutputStream out)
+    throws IOException
+  {
+    out.defaultWriteObject();
+
+    out.writeInt(size());
+    for (H handle : this)
+    {
+      out.writeObject(handle);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readObject(ObjectInputStream in)
+    throws IOException, ClassNotFoundException
+  {
+    in.defaultReadObject();
+
+    int size = in.readInt();
+    allocate(capacityFor(size));
+    for (int i = 0; i < size; i++)
+    {
+      add((H) in.readObject());
+    }
+  }
+
+  static int capacityFor(int expectedSize)
+  {
+    int capacity = MIN_CAPACITY;
+    while (capacity - capacity / 4 < expectedSize)
+    {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  static int hash(long key)
+  {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  private class HandleIterator
+    implements Iterator<H>
+  {
+    private int next;
+    private int last = -1;
+    private int expectedModifications = modifications;
+
+    /**
+     * Iterates over the handles kept on the side once the table has been iterated over.
+     */
+    private Iterator<H> othersIterator;
+
+    private HandleIterator()
+    {
+      advance();
+    }
+
+    public boolean hasNext()
+    {
+      return next < handles.length || (others != null && getOthersIterator().hasNext());
+    }
+
+    @SuppressWarnings("unchecked")
+    public H next()
+    {
+      if (expectedModifications != modifications)
+      {
+        throw new ConcurrentModificationException();
+      }
+
+      H handle;
+      if (next < handles.length)
+      {
+        last = next++;
+        advance();
+
+        handle = (H) handles[last];
+      }
+      else if (others != null)
+      {
+        last = handles.length;
+
+        handle = getOthersIterator().next();
+      }
+      else
+      {
+        throw new NoSuchElementException();
+      }
+      return handle;
+    }
+
+    public void remove()
+    {
+      if (last < 0)
+      {
+        throw new IllegalStateException();
+      }
+      else if (expectedModifications != modifications)
+      {
+        throw new ConcurrentModificationException();
+      }
+
+      if (last < handles.length)
+      {
+        removeAt(last);
+      }
+      else
+      {
+        othersIterator.remove();
+        modifications++;
+      }
+      last = -1;
+
+      expectedModifications = modifications;
+    }
+
+    private Iterator<H> getOthersIterator()
+    {
+      if (othersIterator == null)
+      {
+        othersIterator = others.iterator();
+      }
+      return othersIterator;
+    }
+
+    private void advance()
+    {
+      while (next < handles.length && (handles[next] == null || handles[next] == REMOVED))
+      {
+        next++;
+      }
+    }
+  }
+}
@@ -0,0 +1,586 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.util;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A handle to value map kept in an open addressing table keyed by the primitive value of each handle, the map
+ * equivalent of {@link HandleSet}. Putting a value does not allocate an entry for it, entries are only created when
+ * the map is iterated over.
+ * <p/>
+ * Unlike {@link HandleSet} the primitive values are not kept alongside the handles, they are read from the handles
+ * while probing. Maps are short lived and usually small, so the smaller table is worth more than the faster probe.
+ * <p/>
+ * Handles the subclass does not know the primitive value of, see {@link #isHandle(Object)}, are kept in a regular
+ * {@link HashMap} on the side, as in {@link HandleSet}. Values are compared and hashed by content.
+ */
+public abstract class HandleValueMap<H>
+  extends AbstractMap<H, byte[]>
+  implements Cloneable, Serializable
+{
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Marks a slot whose handle was removed, lookups probe past it and puts reuse it.
+   */
+  private static final Object REMOVED = new Object();
+
+  private transient Object[] handles;
+  private transient byte[][] values;
+
+  private transient int size;
+
+  /**
+   * The number of slots that are not empty, including the removed ones.
+   */
+  private transient int used;
+
+  private transient int modifications;
+
+  private transient EntrySet entrySet;
+
+  /**
+   * The values of the handles the subclass does not know the primitive value of, if any.
+   */
+  private transient Map<H, byte[]> others;
+
+  protected HandleValueMap()
+  {
+    this(4);
+  }
+
+  protected HandleValueMap(int initialCapacity)
+  {
+    allocate(HandleSet.capacityFor(initialCapacity));
+  }
+
+  protected HandleValueMap(HandleValueMap<H> handleValueMap)
+  {
+    handles = handleValueMap.handles.clone();
+    values = handleValueMap.values.clone();
+    size = handleValueMap.size;
+    used = handleValueMap.used;
+
+    if (handleValueMap.others != null)
+    {
+      others = new HashMap<>(handleValueMap.others);
+    }
+  }
+
+  /**
+   * Returns {@code true} if the specified object is a handle whose primitive value is known.
+   *
+   * @param o the object
+   * @return {@code true} if the specified object is a handle whose primitive value is known
+   */
+  protected abstract boolean isHandle(Object o);
+
+  /**
+   * Returns the primitive value of the specified handle.
+   *
+   * @param handle the handle, see {@link #isHandle(Object)}
+   * @return the primitive value of the specified handle
+   */
+  protected abstract long getKey(Object handle);
+
+  @Override
+  public int size()
+  {
+    return others == null ? size : size + others.size();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key)
+  {
+    return isHandle(key) ? indexOf(getKey(key)) >= 0 : others != null && others.containsKey(key);
+  }
+
+  @Override
+  public byte[] get(Object key)
+  {
+    byte[] value;
+    if (isHandle(key))
+    {
+      int index = indexOf(getKey(key));
+      value = index < 0 ? null : values[index];
+    }
+    else
+    {
+      value = others == null ? null : others.get(key);
+    }
+    return value;
+  }
+
+  @Override
+  public byte[] put(H handle, byte[] value)
+  {
+    byte[] oldValue;
+    if (isHandle(handle))
+    {
+      long key = getKey(handle);
+
+      int index = indexOf(key);
+      if (index >= 0)
+      {
+        oldValue = values[index];
+        values[index] = value;
+      }
+      else
+      {
+        if (used + 1 > handles.length - handles.length / 4)
+        {
+          // grow if the map is full of handles, otherwise just clear out the removed slots
+          //
+          allocate(size + 1 > handles.length / 2 ? handles.length * 2 : handles.length);
+        }
+
+        index = probe(key);
+        if (handles[index] == null)
+        {
+          used++;
+        }
+        handles[index] = handle;
+        values[index] = value;
+
+        size++;
+        modifications++;
+
+        oldValue = null;
+      }
+    }
+    else
+    {
+      if (others == null)
+      {
+        others = new HashMap<>();
+      }
+
+      int othersSize = others.size();
+      oldValue = others.put(handle, value);
+      if (others.size() != othersSize)
+      {
+        modifications++;
+      }
+    }
+    return oldValue;
+  }
+
+  @Override
+  public byte[] remove(Object key)
+  {
+    byte[] oldValue;
+    if (isHandle(key))
+    {
+      int index = indexOf(getKey(key));
+      if (index >= 0)
+      {
+        oldValue = values[index];
+        removeAt(index);
+      }
+      else
+      {
+        oldValue = null;
+      }
+    }
+    else if (others != null && others.containsKey(key))
+    {
+      oldValue = others.remove(key);
+      modifications++;
+    }
+    else
+    {
+      oldValue = null;
+    }
+    return oldValue;
+  }
+
+  @Override
+  public void clear()
+  {
+    if (used > 0)
+    {
+      Arrays.fill(handles, null);
+      Arrays.fill(values, null);
+
+      size = 0;
+      used = 0;
+      modifications++;
+    }
+
+    if (others != null)
+    {
+      others = null;
+      modifications++;
+    }
+  }
+
+  @Override
+  public Set<Map.Entry<H, byte[]>> entrySet()
+  {
+    if (entrySet == null)
+    {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public HandleValueMap<H> clone()
+  {
+    try
+    {
+      HandleValueMap<H> clone = (HandleValueMap<H>) super.clone();
+      clone.handles = handles.clone();
+      clone.values = values.clone();
+      clone.modifications = 0;
+      clone.entrySet = null;
+      clone.others = others == null ? null : new HashMap<>(others);
+      return clone;
+    }
+    catch (CloneNotSupportedException cnse)
+    {
+      throw new InternalError();
+    }
+  }
+
+  private int indexOf(long key)
+  {
+    int mask = handles.length - 1;
+    int index = HandleSet.hash(key) & mask;
+
+    Object handle;
+    while ((handle = handles[index]) != null && (handle == REMOVED || getKey(handle) != key))
+    {
+      index = (index + 1) & mask;
+    }
+    return handle == null ? -1 : index;
+  }
+
+  /**
+   * Returns the slot a handle that is not in the map is put in.
+   */
+  private int probe(long key)
+  {
+    int mask = handles.length - 1;
+    int index = HandleSet.hash(key) & mask;
+
+    Object handle;
+    while ((handle = handles[index]) != null && handle != REMOVED)
+    {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  private void removeAt(int index)
+  {
+    handles[index] = REMOVED;
+    values[index] = null;
+
+    size--;
+    modifications++;
+  }
+
+  private void allocate(int capacity)
+  {
+    Object[] oldHandles = handles;
+    byte[][] oldValues = values;
+
+    handles = new Object[capacity];
+    values = new byte[capacity][];
+    used = size;
+
+    if (oldHandles != null)
+    {
+      for (int i = 0; i < oldHandles.length; i++)
+      {
+        Object handle = oldHandles[i];
+        if (handle != null && handle != REMOVED)
+        {
+          int index = probe(getKey(handle));
+          handles[index] = handle;
+          values[index] = oldValues[i];
+        }
+      }
+    }
+  }
+
+  private void writeObject(ObjectOutputStream out)
+    throws IOException
+  {
+    out.defaultWriteObject();
+
+    out.writeInt(size());
+    for (Map.Entry<H, byte[]> entry : entrySet())
+    {
+      out.writeObject(entry.getKey());
+      out.writeObject(entry.getValue());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readObject(ObjectInputStream in)
+    throws IOException, ClassNotFoundException
+  {
+    in.defaultReadObject();
+
+    int size = in.readInt();
+    allocate(HandleSet.capacityFor(size));
+    for (int i = 0; i < size; i++)
+    {
+      put((H) in.readObject(), (byte[]) in.readObject());
+    }
+  }
+
+  private class EntrySet
+    extends AbstractSet<Map.Entry<H, byte[]>>
+  {
+    @Override
+    public int size()
+    {
+      return HandleValueMap.this.size();
+    }
+
+    @Override
+    public void clear()
+    {
+      HandleValueMap.this.clear();
+    }
+
+    @Override
+    public Iterator<Map.Entry<H, byte[]>> iterator()
+    {
+      return new EntryIterator();
+    }
+  }
+
+  private class EntryIterator
+    implements Iterator<Map.Entry<H, byte[]>>
+  {
+    private int next;
+    private int last = -1;
+    private int expectedModifications = modifications;
+
+    /**
+     * Iterates over the values kept on the side once the table has been iterated over.
+     */
+    private Iterator<Map.Entry<H, byte[]>> othersIterator;
+
+    private EntryIterator()
+    {
+      advance();
+    }
+
+    public boolean hasNext()
+    {
+      return next < handles.length || (others != null && getOthersIterator().hasNext());
+    }
+
+    public Map.Entry<H, byte[]> next()
+    {
+      if (expectedModifications != modifications)
+      {
+        throw new ConcurrentModificationException();
+      }
+
+      Map.Entry<H, byte[]> entry;
+      if (next < handles.length)
+      {
+        last = next++;
+        advance();
+
+        entry = new Entry(last);
+      }
+      else if (others != null)
+      {
+        last = handles.length;
+
+        entry = new OtherEntry(getOthersIterator().next());
+      }
+      else
+      {
+        throw new NoSuchElementException();
+      }
+      return entry;
+    }
+
+    public void remove()
+    {
+      if (last < 0)
+      {
+        throw new IllegalStateException();
+      }
+      else if (expectedModifications != modifications)
+      {
+        throw new ConcurrentModificationException();
+      }
+
+      if (last < handles.length)
+      {
+        removeAt(last);
+      }
+      else
+      {
+        othersIterator.remove();
+        modifications++;
+      }
+      last = -1;
+
+      expectedModifications = modifications;
+    }
+
+    private Iterator<Map.Entry<H, byte[]>> getOthersIterator()
+    {
+      if (othersIterator == null)
+      {
+        othersIterator = others.entrySet().iterator();
+      }
+      return othersIterator;
+    }
+
+    private void advance()
+    {
+      while (next < handles.length && (handles[next] == null || handles[next] == REMOVED))
+      {
+        next++;
+      }
+    }
+  }
+
+  /**
+   * Compares and hashes entries by the content of their values, so the entries agree with the equality of the value
+   * maps and with the entries of the lazy value maps.
+   */
+  private abstract class AbstractEntry
+    implements Map.Entry<H, byte[]>
+  {
+    @Override
+    public int hashCode()
+    {
+      return getKey().hashCode() ^ Arrays.hashCode(getValue());
+    }
+
+    @Override
+    public boolean equals(Object rhs)
+    {
+      return this == rhs || (rhs instanceof Map.Entry && equals((Map.Entry) rhs));
+    }
+
+    @Override
+    public String toString()
+    {
+      return getKey() + "=" + Arrays.toString(getValue());
+    }
+
+    private boolean equals(Map.Entry rhs)
+    {
+      Object value = rhs.getValue();
+      return getKey().equals(rhs.getKey()) &&
+             (value == null ? getValue() == null : value instanceof byte[] && Arrays.equals(getValue(), (byte[]) value));
+    }
+  }
+
+  /**
+   * An entry that reads and writes its value through to its slot for as long as its handle is still in the slot.
+   */
+  private class Entry
+    extends AbstractEntry
+  {
+    private final int index;
+
+    private final H handle;
+
+    @SuppressWarnings("unchecked")
+    private Entry(int index)
+    {
+      this.index = index;
+
+      handle = (H) handles[index];
+    }
+
+    public H getKey()
+    {
+      return handle;
+    }
+
+    public byte[] getValue()
+    {
+      return handles[index] == handle ? values[index] : null;
+    }
+
+    public byte[] setValue(byte[] value)
+    {
+      if (handles[index] != handle)
+      {
+        throw new IllegalStateException();
+      }
+
+      byte[] oldValue = values[index];
+      values[index] = value;
+      return oldValue;
+    }
+  }
+
+  /**
+   * An entry of the values kept on the side.
+   */
+  private class OtherEntry
+    extends AbstractEntry
+  {
+    private final Map.Entry<H, byte[]> entry;
+
+    private OtherEntry(Map.Entry<H, byte[]> entry)
+    {
+      this.entry = entry;
+    }
+
+    public H getKey()
+    {
+      return entry.getKey();
+    }
+
+    public byte[] getValue()
+    {
+      return entry.getValue();
+    }
+
+    public byte[] setValue(byte[] value)
+    {
+      return entry.setValue(value);
+    }
+  }
+}
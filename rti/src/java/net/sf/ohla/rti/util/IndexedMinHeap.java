@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.sf.ohla.rti.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A binary min-heap of values that are indexed by key so that the value of any key can be changed or removed in
+ * O(log n). Besides the least value, the heap can answer the least value of all the keys but one in O(1) since the
+ * second least value is always one of the children of the root.
+ */
+public class IndexedMinHeap<K, V extends Comparable>
+{
+  private final Map<K, Entry<K, V>> entries = new HashMap<>();
+
+  @SuppressWarnings("unchecked")
+  private Entry<K, V>[] heap = new Entry[16];
+
+  private int size;
+
+  public int size()
+  {
+    return size;
+  }
+
+  public boolean isEmpty()
+  {
+    return size == 0;
+  }
+
+  public boolean containsKey(K key)
+  {
+    return entries.containsKey(key);
+  }
+
+  public V get(K key)
+  {
+    Entry<K, V> entry = entries.get(key);
+    return entry == null ? null : entry.value;
+  }
+
+  /**
+   * Adds the key with the specified value or changes the value of the key if it is already in the heap.
+   */
+  public void put(K key, V value)
+  {
+    assert value != null;
+
+    Entry<K, V> entry = entries.get(key);
+    if (entry == null)
+    {
+      if (size == heap.length)
+      {
+        heap = Arrays.copyOf(heap, size * 2);
+      }
+
+      entry = new Entry<>(key, value, size);
+      entries.put(key, entry);
+
+      heap[size++] = entry;
+
+      siftUp(entry.index);
+    }
+    else
+    {
+      entry.value = value;
+
+      siftUp(entry.index);
+      siftDown(entry.index);
+    }
+  }
+
+  public V remove(K key)
+  {
+    V value;
+
+    Entry<K, V> entry = entries.remove(key);
+    if (entry == null)
+    {
+      value = null;
+    }
+    else
+    {
+      value = entry.value;
+
+      int index = entry.index;
+
+      Entry<K, V> last = heap[--size];
+      heap[size] = null;
+
+      if (last != entry)
+      {
+        heap[index] = last;
+        last.index = index;
+
+        siftUp(index);
+        siftDown(last.index);
+      }
+    }
+
+    return value;
+  }
+
+  public void clear()
+  {
+    Arrays.fill(heap, 0, size, null);
+    size = 0;
+
+    entries.clear();
+  }
+
+  /**
+   * Returns the key with the least value, or {@code null} if the heap is empty.
+   */
+  public K peekKey()
+  {
+    return size == 0 ? null : heap[0].key;
+  }
+
+  /**
+   * Returns the least value, or {@code null} if the heap is empty.
+   */
+  public V peekValue()
+  {
+    return size == 0 ? null : heap[0].value;
+  }
+
+  /**
+   * Returns the least value of all the keys except the specified key, or {@code null} if there are no other keys.
+   */
+  public V peekValueExcluding(K key)
+  {
+    V value;
+    if (size == 0)
+    {
+      value = null;
+    }
+    else if (!heap[0].key.equals(key))
+    {
+      value = heap[0].value;
+    }
+    else if (size == 1)
+    {
+      value = null;
+    }
+    else if (size == 2 || lessThan(heap[1], heap[2]))
+    {
+      value = heap[1].value;
+    }
+    else
+    {
+      value = heap[2].value;
+    }
+    return value;
+  }
+
+  private void siftUp(int index)
+  {
+    Entry<K, V> entry = heap[index];
+    while (index > 0)
+    {
+      int parentIndex = (index - 1) >>> 1;
+      Entry<K, V> parent = heap[parentIndex];
+      if (!lessThan(entry, parent))
+      {
+        break;
+      }
+
+      heap[index] = parent;
+      parent.index = index;
+
+      index = parentIndex;
+    }
+
+    heap[index] = entry;
+    entry.index = index;
+  }
+
+  private void siftDown(int index)
+  {
+    Entry<K, V> entry = heap[index];
+
+    int half = size >>> 1;
+    while (index < half)
+    {
+      int childIndex = (index << 1) + 1;
+      Entry<K, V> child = heap[childIndex];
+
+      int rightIndex = childIndex + 1;
+      if (rightIndex < size && lessThan(heap[rightIndex], child))
+      {
+        childIndex = rightIndex;
+        child = heap[childIndex];
+      }
+
+      if (!lessThan(child, entry))
+      {
+        break;
+      }
+
+      heap[index] = child;
+      child.index = index;
+
+      index = childIndex;
+    }
+
+    heap[index] = entry;
+    entry.index = index;
+  }
+
+  @SuppressWarnings("unchecked")
+  private boolean lessThan(Entry<K, V> lhs, Entry<K, V> rhs)
+  {
+    return lhs.value.compareTo(rhs.value) < 0;
+  }
+
+  private static class Entry<K, V>
+  {
+    private final K key;
+
+    private V value;
+    private int index;
+
+    private Entry(K key, V value, int index)
+    {
+      this.key = key;
+      this.value = value;
+      this.index = index;
+    }
+  }
+}
@@ -25,23 +25,19 @@ import hla.rti1516e.InteractionClassHandle;
 
 public class InteractionClassHandles
 {
-  private static final IEEE1516eInteractionClassHandle[] cache;
-  static
-  {
-    // TODO: get cache size from properties
-
-    cache = new IEEE1516eInteractionClassHandle[1024];
-
-    for (int i = 1; i < cache.length; i++)
+  private static final HandleCache<IEEE1516eInteractionClassHandle> cache =
+    new HandleCache<IEEE1516eInteractionClassHandle>(1024)
     {
-      cache[i] = new IEEE1516eInteractionClassHandle(i);
-    }
-  }
+      @Override
+      protected IEEE1516eInteractionClassHandle create(int handle)
+      {
+        return new IEEE1516eInteractionClassHandle(handle);
+      }
+    };
 
   public static InteractionClassHandle convert(int interactionClassHandle)
   {
-    return interactionClassHandle < cache.length ?
-      cache[interactionClassHandle] : new IEEE1516eInteractionClassHandle(interactionClassHandle);
+    return cache.get(interactionClassHandle);
   }
 
   public static int convert(InteractionClassHandle interactionClassHandle)
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.util;
+
+import java.util.List;
+import java.util.Map;
+
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandleValueMap;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+
+import com.google.protobuf.ByteString;
+import hla.rti1516e.AttributeHandle;
+import hla.rti1516e.AttributeHandleValueMap;
+
+/**
+ * A {@link AttributeHandleValueMap} view over the attribute values of a message.
+ *
+ * @see LazyValueMap
+ */
+public class LazyAttributeHandleValueMap
+  extends LazyValueMap<AttributeHandle>
+  implements AttributeHandleValueMap, ProtoValueMap<MessageProtos.AttributeValue>
+{
+  private static final long serialVersionUID = 1L;
+
+  private final List<MessageProtos.AttributeValue> attributeValues;
+
+  public LazyAttributeHandleValueMap(List<MessageProtos.AttributeValue> attributeValues)
+  {
+    super(attributeValues.size());
+
+    this.attributeValues = attributeValues;
+  }
+
+  @Override
+  protected AttributeHandle getHandle(int index)
+  {
+    return AttributeHandles.convert(attributeValues.get(index).getAttributeHandle());
+  }
+
+  @Override
+  protected ByteString getByteString(int index)
+  {
+    return attributeValues.get(index).getValue();
+  }
+
+  public List<MessageProtos.AttributeValue> getValueProtos()
+  {
+    return isModified() ? null : attributeValues;
+  }
+
+  @Override
+  protected Map<AttributeHandle, byte[]> createMap(int initialCapacity)
+  {
+    return new IEEE1516eAttributeHandleValueMap(initialCapacity);
+  }
+
+  @Override
+  public boolean equals(Object rhs)
+  {
+    return this == rhs || (rhs instanceof AttributeHandleValueMap && equals((AttributeHandleValueMap) rhs));
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.util;
+
+import java.util.List;
+import java.util.Map;
+
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eParameterHandleValueMap;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+
+import com.google.protobuf.ByteString;
+import hla.rti1516e.ParameterHandle;
+import hla.rti1516e.ParameterHandleValueMap;
+
+/**
+ * A {@link ParameterHandleValueMap} view over the parameter values of a message.
+ *
+ * @see LazyValueMap
+ */
+public class LazyParameterHandleValueMap
+  extends LazyValueMap<ParameterHandle>
+  implements ParameterHandleValueMap, ProtoValueMap<MessageProtos.ParameterValue>
+{
+  private static final long serialVersionUID = 1L;
+
+  private final List<MessageProtos.ParameterValue> parameterValues;
+
+  public LazyParameterHandleValueMap(List<MessageProtos.ParameterValue> parameterValues)
+  {
+    super(parameterValues.size());
+
+    this.parameterValues = parameterValues;
+  }
+
+  @Override
+  protected ParameterHandle getHandle(int index)
+  {
+    return ParameterHandles.convert(parameterValues.get(index).getParameterHandle());
+  }
+
+  @Override
+  protected ByteString getByteString(int index)
+  {
+    return parameterValues.get(index).getValue();
+  }
+
+  public List<MessageProtos.ParameterValue> getValueProtos()
+  {
+    return isModified() ? null : parameterValues;
+  }
+
+  @Override
+  protected Map<ParameterHandle, byte[]> createMap(int initialCapacity)
+  {
+    return new IEEE1516eParameterHandleValueMap(initialCapacity);
+  }
+
+  @Override
+  public boolean equals(Object rhs)
+  {
+    return this == rhs || (rhs instanceof ParameterHandleValueMap && equals((ParameterHandleValueMap) rhs));
+  }
+}
@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.google.protobuf.ByteString;
+import hla.rti1516e.encoding.ByteWrapper;
+
+/**
+ * A handle to value map that is a view over the handle/value pairs of a protobuf message. Handles are only converted
+ * when they are looked at and values are only copied out of their {@link ByteString} the first time they are asked
+ * for. Values that are never looked at are never copied.
+ * <p/>
+ * Replacing the value of a handle that is already in the map or removing handles from the map is done in place, only
+ * adding a new handle causes the view to be copied into a regular map.
+ * <p/>
+ * Lookups are linear, which is faster than hashing for the small number of values carried by a single message.
+ */
+public abstract class LazyValueMap<H>
+  extends AbstractMap<H, byte[]>
+{
+  private final int count;
+
+  private int size;
+
+  /**
+   * The values that have been copied out of their {@code ByteString}s (or replaced), indexed like the message.
+   */
+  private byte[][] values;
+
+  private boolean[] removed;
+
+  /**
+   * Whether a value has been replaced in place.
+   */
+  private boolean replaced;
+
+  /**
+   * The regular map this view has been copied into, if any.
+   */
+  private Map<H, byte[]> map;
+
+  private EntrySet entrySet;
+
+  protected LazyValueMap(int count)
+  {
+    this.count = count;
+
+    size = count;
+  }
+
+  protected abstract H getHandle(int index);
+
+  protected abstract ByteString getByteString(int index);
+
+  protected abstract Map<H, byte[]> createMap(int initialCapacity);
+
+  @Override
+  public int size()
+  {
+    return map == null ? size : map.size();
+  }
+
+  @Override
+  public boolean containsKey(Object key)
+  {
+    return map == null ? indexOf(key) >= 0 : map.containsKey(key);
+  }
+
+  @Override
+  public byte[] get(Object key)
+  {
+    byte[] value;
+    if (map == null)
+    {
+      int index = indexOf(key);
+      value = index >= 0 ? getValueBytes(index) : null;
+    }
+    else
+    {
+      value = map.get(key);
+    }
+    return value;
+  }
+
+  @Override
+  public byte[] put(H key, byte[] value)
+  {
+    byte[] oldValue;
+    if (map == null)
+    {
+      int index = indexOf(key);
+      if (index >= 0 && value != null)
+      {
+        oldValue = getValueBytes(index);
+        values[index] = value;
+        replaced = true;
+      }
+      else
+      {
+        oldValue = copy().put(key, value);
+      }
+    }
+    else
+    {
+      oldValue = map.put(key, value);
+    }
+    return oldValue;
+  }
+
+  @Override
+  public byte[] remove(Object key)
+  {
+    byte[] oldValue;
+    if (map == null)
+    {
+      int index = indexOf(key);
+      if (index >= 0)
+      {
+        oldValue = getValueBytes(index);
+        removeIndex(index);
+      }
+      else
+      {
+        oldValue = null;
+      }
+    }
+    else
+    {
+      oldValue = map.remove(key);
+    }
+    return oldValue;
+  }
+
+  @Override
+  public void clear()
+  {
+    if (map == null)
+    {
+      map = createMap(count);
+    }
+    else
+    {
+      map.clear();
+    }
+  }
+
+  @Override
+  public Set<Map.Entry<H, byte[]>> entrySet()
+  {
+    Set<Map.Entry<H, byte[]>> entrySet;
+    if (map == null)
+    {
+      if (this.entrySet == null)
+      {
+        this.entrySet = new EntrySet();
+      }
+      entrySet = this.entrySet;
+    }
+    else
+    {
+      entrySet = map.entrySet();
+    }
+    return entrySet;
+  }
+
+  public ByteWrapper getValueReference(H handle)
+  {
+    byte[] buffer = get(handle);
+    return buffer == null ? null : new ByteWrapper(buffer);
+  }
+
+  public ByteWrapper getValueReference(H handle, ByteWrapper byteWrapper)
+  {
+    byte[] buffer = get(handle);
+    if (buffer == null)
+    {
+      byteWrapper = null;
+    }
+    else
+    {
+      byteWrapper.put(buffer);
+    }
+    return byteWrapper;
+  }
+
+  /**
+   * Serializes the handle/value pairs as the regular map this view would be copied into, the message the view is over
+   * is not serialized.
+   *
+   * @return a regular map holding the handle/value pairs of this view
+   */
+  protected Object writeReplace()
+  {
+    Map<H, byte[]> map = createMap(size());
+    map.putAll(this);
+    return map;
+  }
+
+  /**
+   * Returns {@code true} if this view no longer matches the handle/value pairs of the message it is over.
+   *
+   * @return {@code true} if this view no longer matches the handle/value pairs of the message it is over
+   */
+  protected boolean isModified()
+  {
+    return map != null || removed != null || replaced;
+  }
+
+  /**
+   * Hashes the values by content, whether or not the view has been copied into a regular map, so the hash code agrees
+   * with {@link #equals(Map)}.
+   */
+  @Override
+  public int hashCode()
+  {
+    int hashCode = 0;
+    for (Map.Entry<H, byte[]> entry : entrySet())
+    {
+      hashCode += entry.getKey().hashCode() ^ Arrays.hashCode(entry.getValue());
+    }
+    return hashCode;
+  }
+
+  protected boolean equals(Map<?, byte[]> rhs)
+  {
+    boolean equals = size() == rhs.size();
+    if (equals)
+    {
+      for (Iterator<Map.Entry<H, byte[]>> i = entrySet().iterator(); i.hasNext() && equals;)
+      {
+        Map.Entry<H, byte[]> entry = i.next();
+        equals = Arrays.equals(entry.getValue(), rhs.get(entry.getKey()));
+      }
+    }
+    return equals;
+  }
+
+  private int indexOf(Object key)
+  {
+    int index = -1;
+    for (int i = 0; i < count && index < 0; i++)
+    {
+      if ((removed == null || !removed[i]) && getHandle(i).equals(key))
+      {
+        index = i;
+      }
+    }
+    return index;
+  }
+
+  private byte[] getValueBytes(int index)
+  {
+    if (values == null)
+    {
+      values = new byte[count][];
+    }
+
+    byte[] value = values[index];
+    if (value == null)
+    {
+      values[index] = value = getByteString(index).toByteArray();
+    }
+    return value;
+  }
+
+  private void removeIndex(int index)
+  {
+    if (removed == null)
+    {
+      removed = new boolean[count];
+    }
+
+    removed[index] = true;
+    size--;
+  }
+
+  private Map<H, byte[]> copy()
+  {
+    Map<H, byte[]> map = createMap(count + 1);
+    for (int i = 0; i < count; i++)
+    {
+      if (removed == null || !removed[i])
+      {
+        map.put(getHandle(i), getValueBytes(i));
+      }
+    }
+    return this.map = map;
+  }
+
+  private class EntrySet
+    extends AbstractSet<Map.Entry<H, byte[]>>
+  {
+    @Override
+    public Iterator<Map.Entry<H, byte[]>> iterator()
+    {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size()
+    {
+      return LazyValueMap.this.size();
+    }
+  }
+
+  private class EntryIterator
+    implements Iterator<Map.Entry<H, byte[]>>
+  {
+    private int next = -1;
+    private int current = -1;
+
+    private EntryIterator()
+    {
+      advance();
+    }
+
+    public boolean hasNext()
+    {
+      return next < count;
+    }
+
+    public Map.Entry<H, byte[]> next()
+    {
+      if (next >= count)
+      {
+        throw new NoSuchElementException();
+      }
+
+      current = next;
+      advance();
+
+      return new Entry(current);
+    }
+
+    public void remove()
+    {
+      if (current < 0 || removed != null && removed[current])
+      {
+        throw new IllegalStateException();
+      }
+
+      removeIndex(current);
+    }
+
+    private void advance()
+    {
+      do
+      {
+        next++;
+      } while (next < count && removed != null && removed[next]);
+    }
+  }
+
+  private class Entry
+    implements Map.Entry<H, byte[]>
+  {
+    private final int index;
+
+    private Entry(int index)
+    {
+      this.index = index;
+    }
+
+    public H getKey()
+    {
+      return getHandle(index);
+    }
+
+    public byte[] getValue()
+    {
+      return getValueBytes(index);
+    }
+
+    public byte[] setValue(byte[] value)
+    {
+      if (value == null)
+      {
+        throw new NullPointerException();
+      }
+
+      byte[] oldValue = getValueBytes(index);
+      values[index] = value;
+      replaced = true;
+      return oldValue;
+    }
+
+    @Override
+    public boolean equals(Object rhs)
+    {
+      return this == rhs || (rhs instanceof Map.Entry && getKey().equals(((Map.Entry) rhs).getKey()) &&
+                             ((Map.Entry) rhs).getValue() instanceof byte[] &&
+                             Arrays.equals(getValue(), (byte[]) ((Map.Entry) rhs).getValue()));
+    }
+
+    /**
+     * Hashes the value by content, so the map's hash code agrees with {@link LazyValueMap#equals(Map)}.
+     */
+    @Override
+    public int hashCode()
+    {
+      return getKey().hashCode() ^ Arrays.hashCode(getValue());
+    }
+
+    @Override
+    public String toString()
+    {
+      return getKey() + "=" + getValue();
+    }
+  }
+}
@@ -19,34 +19,20 @@ package net.sf.ohla.rti.util;
 import com.google.protobuf.ByteString;
 import hla.rti1516e.LogicalTimeFactory;
 import hla.rti1516e.LogicalTimeInterval;
-import hla.rti1516e.exceptions.CouldNotDecode;
-import hla.rti1516e.exceptions.CouldNotEncode;
 
+/**
+ * Converts logical time intervals to and from the bytes they are sent as, the same way {@link LogicalTimes} converts
+ * logical times.
+ */
 public class LogicalTimeIntervals
 {
-  public static ByteString convert(LogicalTimeInterval logicalTimeInterval)
+  public static ByteString convert(LogicalTimeFactory logicalTimeFactory, LogicalTimeInterval logicalTimeInterval)
   {
-    try
-    {
-      byte[] bytes = new byte[logicalTimeInterval.encodedLength()];
-      logicalTimeInterval.encode(bytes, 0);
-      return ByteString.copyFrom(bytes);
-    }
-    catch (CouldNotEncode cne)
-    {
-      throw new RuntimeException(cne);
-    }
+    return LogicalTimeType.of(logicalTimeFactory).encode(logicalTimeInterval);
   }
 
   public static LogicalTimeInterval convert(LogicalTimeFactory logicalTimeFactory, ByteString byteString)
   {
-    try
-    {
-      return logicalTimeFactory.decodeInterval(byteString.toByteArray(), 0);
-    }
-    catch (CouldNotDecode cnd)
-    {
-      throw new RuntimeException(cnd);
-    }
+    return LogicalTimeType.of(logicalTimeFactory).decodeInterval(logicalTimeFactory, byteString);
   }
 }
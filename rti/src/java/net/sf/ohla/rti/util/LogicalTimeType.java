@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.sf.ohla.rti.util;
+
+import com.google.protobuf.ByteString;
+import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactory;
+import hla.rti1516e.LogicalTimeInterval;
+import hla.rti1516e.exceptions.CouldNotDecode;
+import hla.rti1516e.exceptions.CouldNotEncode;
+import hla.rti1516e.time.HLAfloat64Interval;
+import hla.rti1516e.time.HLAfloat64Time;
+import hla.rti1516e.time.HLAfloat64TimeFactory;
+import hla.rti1516e.time.HLAinteger64Interval;
+import hla.rti1516e.time.HLAinteger64Time;
+import hla.rti1516e.time.HLAinteger64TimeFactory;
+
+/**
+ * The kind of logical time a federation execution runs with. The two standard time types are detected when the
+ * federation execution is created and their times are ordered by a raw {@code long} key instead of through
+ * {@link LogicalTime#compareTo}, and sent as a varint ({@code HLAinteger64Time}) or as 8 raw bytes
+ * ({@code HLAfloat64Time}) instead of through their HLA encoding. Every other time type takes the generic path.
+ * <p/>
+ * Times and intervals are encoded and decoded through the type of the federation execution, never through the class
+ * of the time at hand, so both ends always agree on the encoding.
+ */
+public enum LogicalTimeType
+{
+  INTEGER64
+    {
+      @Override
+      public long toKey(LogicalTime time)
+      {
+        return ((HLAinteger64Time) time).getValue();
+      }
+
+      @Override
+      public ByteString encode(LogicalTime time)
+      {
+        return encodeVarint(((HLAinteger64Time) time).getValue());
+      }
+
+      @Override
+      public ByteString encode(LogicalTimeInterval interval)
+      {
+        return encodeVarint(((HLAinteger64Interval) interval).getValue());
+      }
+
+      @Override
+      public LogicalTime decodeTime(LogicalTimeFactory logicalTimeFactory, ByteString byteString)
+      {
+        return ((HLAinteger64TimeFactory) logicalTimeFactory).makeTime(decodeVarint(byteString));
+      }
+
+      @Override
+      public LogicalTimeInterval decodeInterval(LogicalTimeFactory logicalTimeFactory, ByteString byteString)
+      {
+        return ((HLAinteger64TimeFactory) logicalTimeFactory).makeInterval(decodeVarint(byteString));
+      }
+    },
+  FLOAT64
+    {
+      @Override
+      public long toKey(LogicalTime time)
+      {
+        // flips the bits of negative values so that the keys sort like Double.compare
+        //
+        long bits = Double.doubleToLongBits(((HLAfloat64Time) time).getValue());
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+      }
+
+      @Override
+      public ByteString encode(LogicalTime time)
+      {
+        return encodeFixed64(((HLAfloat64Time) time).getValue());
+      }
+
+      @Override
+      public ByteString encode(LogicalTimeInterval interval)
+      {
+        return encodeFixed64(((HLAfloat64Interval) interval).getValue());
+      }
+
+      @Override
+      public LogicalTime decodeTime(LogicalTimeFactory logicalTimeFactory, ByteString byteString)
+      {
+        return ((HLAfloat64TimeFactory) logicalTimeFactory).makeTime(decodeFixed64(byteString));
+      }
+
+      @Override
+      public LogicalTimeInterval decodeInterval(LogicalTimeFactory logicalTimeFactory, ByteString byteString)
+      {
+        return ((HLAfloat64TimeFactory) logicalTimeFactory).makeInterval(decodeFixed64(byteString));
+      }
+    },
+  GENERIC
+    {
+      /**
+       * Every generic time has the same key, {@link #compare} orders them through {@link LogicalTime#compareTo}.
+       */
+      @Override
+      public long toKey(LogicalTime time)
+      {
+        return 0L;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public int compare(long lhsKey, LogicalTime lhs, long rhsKey, LogicalTime rhs)
+      {
+        return lhs.compareTo(rhs);
+      }
+
+      @Override
+      public ByteString encode(LogicalTime time)
+      {
+        try
+        {
+          byte[] bytes = new byte[time.encodedLength()];
+          time.encode(bytes, 0);
+          return ByteString.copyFrom(bytes);
+        }
+        catch (CouldNotEncode cne)
+        {
+          throw new RuntimeException(cne);
+        }
+      }
+
+      @Override
+      public ByteString encode(LogicalTimeInterval interval)
+      {
+        try
+        {
+          byte[] bytes = new byte[interval.encodedLength()];
+          interval.encode(bytes, 0);
+          return ByteString.copyFrom(bytes);
+        }
+        catch (CouldNotEncode cne)
+        {
+          throw new RuntimeException(cne);
+        }
+      }
+
+      @Override
+      public LogicalTime decodeTime(LogicalTimeFactory logicalTimeFactory, ByteString byteString)
+      {
+        try
+        {
+          return logicalTimeFactory.decodeTime(byteString.toByteArray(), 0);
+        }
+        catch (CouldNotDecode cnd)
+        {
+          throw new RuntimeException(cnd);
+        }
+      }
+
+      @Override
+      public LogicalTimeInterval decodeInterval(LogicalTimeFactory logicalTimeFactory, ByteString byteString)
+      {
+        try
+        {
+          return logicalTimeFactory.decodeInterval(byteString.toByteArray(), 0);
+        }
+        catch (CouldNotDecode cnd)
+        {
+          throw new RuntimeException(cnd);
+        }
+      }
+    };
+
+  public static LogicalTimeType of(LogicalTimeFactory logicalTimeFactory)
+  {
+    LogicalTimeType logicalTimeType;
+    if (logicalTimeFactory instanceof HLAinteger64TimeFactory)
+    {
+      logicalTimeType = INTEGER64;
+    }
+    else if (logicalTimeFactory instanceof HLAfloat64TimeFactory)
+    {
+      logicalTimeType = FLOAT64;
+    }
+    else
+    {
+      logicalTimeType = GENERIC;
+    }
+    return logicalTimeType;
+  }
+
+  public boolean isPrimitive()
+  {
+    return this != GENERIC;
+  }
+
+  /**
+   * Returns a key that orders the specified time like {@link LogicalTime#compareTo} would, for the primitive time
+   * types. Keys are only ever compared through {@link #compare}.
+   */
+  public abstract long toKey(LogicalTime time);
+
+  /**
+   * Compares two times by their keys, or by the times themselves for the generic time type.
+   */
+  public int compare(long lhsKey, LogicalTime lhs, long rhsKey, LogicalTime rhs)
+  {
+    return Long.compare(lhsKey, rhsKey);
+  }
+
+  public abstract ByteString encode(LogicalTime time);
+
+  public abstract ByteString encode(LogicalTimeInterval interval);
+
+  public abstract LogicalTime decodeTime(LogicalTimeFactory logicalTimeFactory, ByteString byteString);
+
+  public abstract LogicalTimeInterval decodeInterval(LogicalTimeFactory logicalTimeFactory, ByteString byteString);
+
+  private static ByteString encodeVarint(long value)
+  {
+    // zig-zag encoded so that small negative intervals stay small
+    //
+    long zigZag = (value << 1) ^ (value >> 63);
+
+    byte[] bytes = new byte[10];
+    int length = 0;
+    while ((zigZag & ~0x7FL) != 0)
+    {
+      bytes[length++] = (byte) ((zigZag & 0x7F) | 0x80);
+      zigZag >>>= 7;
+    }
+    bytes[length++] = (byte) zigZag;
+
+    return ByteString.copyFrom(bytes, 0, length);
+  }
+
+  private static long decodeVarint(ByteString byteString)
+  {
+    long zigZag = 0L;
+    for (int i = 0, shift = 0; i < byteString.size(); i++, shift += 7)
+    {
+      zigZag |= (long) (byteString.byteAt(i) & 0x7F) << shift;
+    }
+    return (zigZag >>> 1) ^ -(zigZag & 1);
+  }
+
+  private static ByteString encodeFixed64(double value)
+  {
+    long bits = Double.doubleToRawLongBits(value);
+
+    byte[] bytes = new byte[8];
+    for (int i = 0; i < bytes.length; i++, bits >>>= 8)
+    {
+      bytes[i] = (byte) bits;
+    }
+    return ByteString.copyFrom(bytes);
+  }
+
+  private static double decodeFixed64(ByteString byteString)
+  {
+    long bits = 0L;
+    for (int i = 7; i >= 0; i--)
+    {
+      bits = (bits << 8) | (byteString.byteAt(i) & 0xFF);
+    }
+    return Double.longBitsToDouble(bits);
+  }
+}
@@ -19,34 +19,21 @@ package net.sf.ohla.rti.util;
 import com.google.protobuf.ByteString;
 import hla.rti1516e.LogicalTime;
 import hla.rti1516e.LogicalTimeFactory;
-import hla.rti1516e.exceptions.CouldNotDecode;
-import hla.rti1516e.exceptions.CouldNotEncode;
 
+/**
+ * Converts logical times to and from the bytes they are sent as. The standard time types are sent in their primitive
+ * form (see {@link LogicalTimeType}), every other time type is sent in its own encoding. Both directions pick the
+ * encoding from the logical time factory of the federation execution, never from the time itself.
+ */
 public class LogicalTimes
 {
-  public static ByteString convert(LogicalTime logicalTime)
+  public static ByteString convert(LogicalTimeFactory logicalTimeFactory, LogicalTime logicalTime)
   {
-    try
-    {
-      byte[] bytes = new byte[logicalTime.encodedLength()];
-      logicalTime.encode(bytes, 0);
-      return ByteString.copyFrom(bytes);
-    }
-    catch (CouldNotEncode cne)
-    {
-      throw new RuntimeException(cne);
-    }
+    return LogicalTimeType.of(logicalTimeFactory).encode(logicalTime);
   }
 
   public static LogicalTime convert(LogicalTimeFactory logicalTimeFactory, ByteString byteString)
   {
-    try
-    {
-      return logicalTimeFactory.decodeTime(byteString.toByteArray(), 0);
-    }
-    catch (CouldNotDecode cnd)
-    {
-      throw new RuntimeException(cnd);
-    }
+    return LogicalTimeType.of(logicalTimeFactory).decodeTime(logicalTimeFactory, byteString);
   }
 }
@@ -16,6 +16,7 @@
 
 package net.sf.ohla.rti.util;
 
+import java.io.EOFException;
 import java.io.IOException;
 
 import java.nio.ByteBuffer;
@@ -37,6 +38,29 @@ public class MoreChannels
     } while (buffer.hasRemaining());
   }
 
+  public static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+    throws IOException
+  {
+    do
+    {
+      position += channel.write(buffer, position);
+    } while (buffer.hasRemaining());
+  }
+
+  public static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+    throws IOException
+  {
+    do
+    {
+      int bytesRead = channel.read(buffer, position);
+      if (bytesRead < 0)
+      {
+        throw new EOFException();
+      }
+      position += bytesRead;
+    } while (buffer.hasRemaining());
+  }
+
   public static void transferFromFully(FileChannel destination, ReadableByteChannel source, long position, long count)
     throws IOException
   {
@@ -22,23 +22,18 @@ import hla.rti1516e.ObjectClassHandle;
 
 public class ObjectClassHandles
 {
-  private static final IEEE1516eObjectClassHandle[] cache;
-  static
+  private static final HandleCache<IEEE1516eObjectClassHandle> cache = new HandleCache<IEEE1516eObjectClassHandle>(1024)
   {
-    // TODO: get cache size from properties
-
-    cache = new IEEE1516eObjectClassHandle[1024];
-
-    for (int i = 1; i < cache.length; i++)
+    @Override
+    protected IEEE1516eObjectClassHandle create(int handle)
     {
-      cache[i] = new IEEE1516eObjectClassHandle(i);
+      return new IEEE1516eObjectClassHandle(handle);
     }
-  }
+  };
 
   public static ObjectClassHandle convert(int objectClassHandle)
   {
-    return objectClassHandle < cache.length ?
-      cache[objectClassHandle] : new IEEE1516eObjectClassHandle(objectClassHandle);
+    return cache.get(objectClassHandle);
   }
 
   public static int convert(ObjectClassHandle objectClassHandle)
@@ -22,22 +22,18 @@ import hla.rti1516e.ParameterHandle;
 
 public class ParameterHandles
 {
-  private static final IEEE1516eParameterHandle[] cache;
-  static
+  private static final HandleCache<IEEE1516eParameterHandle> cache = new HandleCache<IEEE1516eParameterHandle>(128)
   {
-    // TODO: get cache size from properties
-
-    cache = new IEEE1516eParameterHandle[128];
-
-    for (int i = 1; i < cache.length; i++)
+    @Override
+    protected IEEE1516eParameterHandle create(int handle)
     {
-      cache[i] = new IEEE1516eParameterHandle(i);
+      return new IEEE1516eParameterHandle(handle);
     }
-  }
+  };
 
   public static ParameterHandle convert(int attributeHandle)
   {
-    return attributeHandle < cache.length ? cache[attributeHandle] : new IEEE1516eParameterHandle(attributeHandle);
+    return cache.get(attributeHandle);
   }
 
   public static int convert(ParameterHandle attributeHandle)
@@ -41,15 +41,21 @@ public class ParameterValues
     return parameterValues;
   }
 
+  @SuppressWarnings("unchecked")
   public static Collection<MessageProtos.ParameterValue> convert(ParameterHandleValueMap parameterValues)
   {
-    List<MessageProtos.ParameterValue> parameterValueProtos = new ArrayList<>(parameterValues.size());
-    for (ParameterHandleValueMap.Entry<ParameterHandle, byte[]> entry : parameterValues.entrySet())
+    List<MessageProtos.ParameterValue> parameterValueProtos = parameterValues instanceof ProtoValueMap ?
+      ((ProtoValueMap<MessageProtos.ParameterValue>) parameterValues).getValueProtos() : null;
+    if (parameterValueProtos == null)
     {
-      parameterValueProtos.add(
-        MessageProtos.ParameterValue.newBuilder().setParameterHandle(
-          ParameterHandles.convert(entry.getKey())).setValue(
-          ByteString.copyFrom(entry.getValue())).build());
+      parameterValueProtos = new ArrayList<>(parameterValues.size());
+      for (ParameterHandleValueMap.Entry<ParameterHandle, byte[]> entry : parameterValues.entrySet())
+      {
+        parameterValueProtos.add(
+          MessageProtos.ParameterValue.newBuilder().setParameterHandle(
+            ParameterHandles.convert(entry.getKey())).setValue(
+            ByteString.copyFrom(entry.getValue())).build());
+      }
     }
     return parameterValueProtos;
   }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.sf.ohla.rti.util;
+
+import java.util.List;
+
+/**
+ * A handle to value map that can hand over its handle/value pairs in the form they are carried by a message, so they
+ * can be put into a message, or looked at by index, without walking and converting the map.
+ *
+ * @param <P> the type of the handle/value pair message
+ */
+public interface ProtoValueMap<P>
+{
+  /**
+   * Returns the handle/value pairs of this map, in message form.
+   *
+   * @return the handle/value pairs of this map, or {@code null} if they can no longer be handed over as is
+   */
+  List<P> getValueProtos();
+}
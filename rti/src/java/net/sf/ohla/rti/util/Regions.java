@@ -36,33 +36,44 @@ public class Regions
     for (Map<DimensionHandle, RangeBounds> region : regions)
     {
       FederateMessageProtos.Region.Builder regionProto = FederateMessageProtos.Region.newBuilder();
-      for (Map.Entry<DimensionHandle, RangeBounds> entry : region.entrySet())
-      {
-        regionProto.addDimensionRangeBounds(
-          OHLAProtos.DimensionRangeBound.newBuilder().setDimensionHandle(
-            DimensionHandles.convert(entry.getKey())).setLowerBound(
-            entry.getValue().lower).setUpperBound(
-            entry.getValue().upper));
-      }
+      addRangeBounds(regionProto, region);
       regionProtos.add(regionProto.build());
     }
     return regionProtos;
   }
 
+  public static void addRangeBounds(
+    FederateMessageProtos.Region.Builder regionProto, Map<DimensionHandle, RangeBounds> region)
+  {
+    for (Map.Entry<DimensionHandle, RangeBounds> entry : region.entrySet())
+    {
+      regionProto.addDimensionRangeBounds(
+        OHLAProtos.DimensionRangeBound.newBuilder().setDimensionHandle(
+          DimensionHandles.convert(entry.getKey())).setLowerBound(
+          entry.getValue().lower).setUpperBound(
+          entry.getValue().upper));
+    }
+  }
+
   public static Collection<Map<DimensionHandle, RangeBounds>> convertFromProtos(
     Collection<FederateMessageProtos.Region> regionProtos)
   {
     Collection<Map<DimensionHandle, RangeBounds>> regions = new ArrayList<>(regionProtos.size());
     for (FederateMessageProtos.Region regionProto : regionProtos)
     {
-      Map<DimensionHandle, RangeBounds> region = new HashMap<>();
-      for (OHLAProtos.DimensionRangeBound dimensionRangeBound : regionProto.getDimensionRangeBoundsList())
-      {
-        region.put(DimensionHandles.convert(dimensionRangeBound.getDimensionHandle()),
-                   new RangeBounds(dimensionRangeBound.getLowerBound(), dimensionRangeBound.getUpperBound()));
-      }
-      regions.add(region);
+      regions.add(convertFromProto(regionProto));
     }
     return regions;
   }
+
+  public static Map<DimensionHandle, RangeBounds> convertFromProto(FederateMessageProtos.Region regionProto)
+  {
+    Map<DimensionHandle, RangeBounds> region = new HashMap<>();
+    for (OHLAProtos.DimensionRangeBound dimensionRangeBound : regionProto.getDimensionRangeBoundsList())
+    {
+      region.put(DimensionHandles.convert(dimensionRangeBound.getDimensionHandle()),
+                 new RangeBounds(dimensionRangeBound.getLowerBound(), dimensionRangeBound.getUpperBound()));
+    }
+    return region;
+  }
 }
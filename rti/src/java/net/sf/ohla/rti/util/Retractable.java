@@ -28,6 +28,16 @@ public class Retractable
   protected boolean retracted;
   protected boolean expired;
 
+  /**
+   * Orders retractables with the same time in the order they were added to their {@link RetractableManager}.
+   */
+  long sequence;
+
+  /**
+   * The time as a raw key, set when the {@link RetractableManager} runs with a primitive {@link LogicalTimeType}.
+   */
+  long timeKey;
+
   public Retractable(MessageRetractionHandle messageRetractionHandle, LogicalTime time)
   {
     this.messageRetractionHandle = messageRetractionHandle;
@@ -84,6 +94,7 @@ public class Retractable
   @Override
   public int compareTo(Retractable rhs)
   {
-    return time.compareTo(rhs.time);
+    int compare = time.compareTo(rhs.time);
+    return compare != 0 ? compare : Long.compare(sequence, rhs.sequence);
   }
 }
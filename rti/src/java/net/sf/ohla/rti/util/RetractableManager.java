@@ -16,23 +16,55 @@
 
 package net.sf.ohla.rti.util;
 
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
-import java.util.PriorityQueue;
+import java.util.NavigableSet;
+import java.util.TreeSet;
 
 import hla.rti1516e.LogicalTime;
 import hla.rti1516e.MessageRetractionHandle;
 
+/**
+ * Keeps retractables in time order. Retracted retractables are removed as soon as they are retracted so iterating
+ * {@link #retractables} visits only outstanding retractables, earliest first.
+ * <p/>
+ * When running with a primitive {@link LogicalTimeType} retractables are ordered by their raw time keys instead of
+ * through {@link LogicalTime#compareTo}.
+ */
 public class RetractableManager<R extends Retractable>
 {
-  protected final PriorityQueue<R> retractables = new PriorityQueue<>();
+  private static final Comparator<Retractable> TIME_KEY_COMPARATOR = new Comparator<Retractable>()
+  {
+    public int compare(Retractable lhs, Retractable rhs)
+    {
+      int compare = Long.compare(lhs.timeKey, rhs.timeKey);
+      return compare != 0 ? compare : Long.compare(lhs.sequence, rhs.sequence);
+    }
+  };
+
+  protected final LogicalTimeType logicalTimeType;
+
+  protected final NavigableSet<R> retractables;
   protected final Map<MessageRetractionHandle, R> retractablesByMessageRetractionHandle = new HashMap<>();
 
+  private long sequence;
+
+  public RetractableManager()
+  {
+    this(LogicalTimeType.GENERIC);
+  }
+
+  public RetractableManager(LogicalTimeType logicalTimeType)
+  {
+    this.logicalTimeType = logicalTimeType;
+
+    retractables = logicalTimeType.isPrimitive() ? new TreeSet<R>(TIME_KEY_COMPARATOR) : new TreeSet<R>();
+  }
+
   public synchronized boolean contains(MessageRetractionHandle messageRetractionHandle)
   {
-    return retractablesByMessageRetractionHandle.containsKey(messageRetractionHandle) &&
-           retractablesByMessageRetractionHandle.get(messageRetractionHandle).isNotRetracted();
+    return retractablesByMessageRetractionHandle.containsKey(messageRetractionHandle);
   }
 
   public synchronized boolean add(R retractable)
@@ -40,6 +72,9 @@ public class RetractableManager<R extends Retractable>
     boolean added;
     if (added = !retractablesByMessageRetractionHandle.containsKey(retractable.getMessageRetractionHandle()))
     {
+      retractable.sequence = sequence++;
+      retractable.timeKey = logicalTimeType.toKey(retractable.getTime());
+
       retractables.add(retractable);
       retractablesByMessageRetractionHandle.put(retractable.getMessageRetractionHandle(), retractable);
     }
@@ -53,36 +88,37 @@ public class RetractableManager<R extends Retractable>
     R retractable = retractablesByMessageRetractionHandle.remove(messageRetractionHandle);
     if (retracted = retractable != null)
     {
+      retractables.remove(retractable);
+
       retractable.retract();
     }
 
     return retracted;
   }
 
-  @SuppressWarnings("unchecked")
+  /**
+   * Expires the retractables at or before the specified time. Under conservative time management a message at the
+   * GALT is at or below the LOTS of every time regulating federate, and none of them can retract it any more.
+   */
   public synchronized void expire(LogicalTime time)
   {
-    for (Retractable retractable = retractables.peek();
-         retractable != null && retractable.getTime().compareTo(time) <= 0; retractable = retractables.peek())
-    {
-      if (retractable.isNotRetracted())
-      {
-        retractable.expire();
-      }
+    expire(time, true);
+  }
 
-      retractables.poll();
-      retractablesByMessageRetractionHandle.remove(retractable.getMessageRetractionHandle());
-    }
+  /**
+   * Expires the retractables strictly before the specified time, those at the time can still be retracted. Only
+   * optimistic time management needs this, a rolled back federate may retract a message at the GVT.
+   */
+  public synchronized void expireBefore(LogicalTime time)
+  {
+    expire(time, false);
   }
 
   public synchronized void expireAll()
   {
-    for (Retractable retractable = retractables.poll(); retractable != null; retractable = retractables.poll())
+    for (R retractable = retractables.pollFirst(); retractable != null; retractable = retractables.pollFirst())
     {
-      if (retractable.isNotRetracted())
-      {
-        retractable.expire();
-      }
+      retractable.expire();
     }
     retractablesByMessageRetractionHandle.clear();
   }
@@ -93,19 +129,27 @@ public class RetractableManager<R extends Retractable>
     retractablesByMessageRetractionHandle.clear();
   }
 
-  protected void clearRetracted()
+  private void expire(LogicalTime time, boolean inclusive)
   {
-    // clear any retracted messages
-    //
-    for (Iterator<R> i = retractables.iterator(); i.hasNext(); )
+    long timeKey = logicalTimeType.toKey(time);
+    for (R retractable = retractables.isEmpty() ? null : retractables.first();
+         retractable != null && (inclusive ? compareTime(retractable, time, timeKey) <= 0 :
+                                             compareTime(retractable, time, timeKey) < 0);
+         retractable = retractables.isEmpty() ? null : retractables.first())
     {
-      R retractable = i.next();
-      if (retractable.isRetracted())
-      {
-        i.remove();
+      retractable.expire();
 
-        retractablesByMessageRetractionHandle.remove(retractable.getMessageRetractionHandle());
-      }
+      retractables.pollFirst();
+      retractablesByMessageRetractionHandle.remove(retractable.getMessageRetractionHandle());
     }
   }
+
+  /**
+   * Compares the time of the retractable to the specified time, {@code timeKey} is the key of the time in the
+   * {@link LogicalTimeType} of this manager.
+   */
+  protected int compareTime(R retractable, LogicalTime time, long timeKey)
+  {
+    return logicalTimeType.compare(retractable.timeKey, retractable.getTime(), timeKey, time);
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.sf.ohla.rti.messages.proto.FederateMessageProtos;
+
+import hla.rti1516e.DimensionHandle;
+import hla.rti1516e.RangeBounds;
+import hla.rti1516e.RegionHandle;
+
+/**
+ * The versions of the regions whose extents have been sent to a federate. A callback sent reliably only carries the
+ * extents of a region when they changed since the federate was last sent them, otherwise the federate finds them by the
+ * region handle and version. Callbacks sent best effort can be dropped or overtake others, so they always carry the
+ * extents and never assign a version.
+ */
+public class SentRegionVersions
+{
+  private final Map<RegionHandle, SentRegionVersion> sentRegionVersions = new HashMap<>();
+
+  /**
+   * Converts the specified regions into protos. Must be called in the order the callbacks are written to the federate.
+   *
+   * @param regions the sent regions
+   * @param reliable {@code true} if the callback is sent reliably
+   * @return the region protos
+   */
+  public Collection<FederateMessageProtos.Region> convertToProtos(
+    Map<RegionHandle, Map<DimensionHandle, RangeBounds>> regions, boolean reliable)
+  {
+    Collection<FederateMessageProtos.Region> regionProtos = new ArrayList<>(regions.size());
+    for (Map.Entry<RegionHandle, Map<DimensionHandle, RangeBounds>> entry : regions.entrySet())
+    {
+      FederateMessageProtos.Region.Builder regionProto = FederateMessageProtos.Region.newBuilder();
+
+      SentRegionVersion sentRegionVersion = sentRegionVersions.get(entry.getKey());
+      if (sentRegionVersion != null && entry.getValue().equals(sentRegionVersion.rangeBounds))
+      {
+        regionProto.setRegionHandle(RegionHandles.convert(entry.getKey()));
+        regionProto.setVersion(sentRegionVersion.version);
+
+        if (!reliable)
+        {
+          Regions.addRangeBounds(regionProto, entry.getValue());
+        }
+      }
+      else if (reliable)
+      {
+        sentRegionVersion = new SentRegionVersion(
+          sentRegionVersion == null ? 0 : sentRegionVersion.version + 1, entry.getValue());
+        sentRegionVersions.put(entry.getKey(), sentRegionVersion);
+
+        regionProto.setRegionHandle(RegionHandles.convert(entry.getKey()));
+        regionProto.setVersion(sentRegionVersion.version);
+        Regions.addRangeBounds(regionProto, entry.getValue());
+      }
+      else
+      {
+        Regions.addRangeBounds(regionProto, entry.getValue());
+      }
+
+      regionProtos.add(regionProto.build());
+    }
+    return regionProtos;
+  }
+
+  /**
+   * Forgets the extents sent to the federate, for when the federate might not have received them. The next reliable
+   * callback sent with a region carries its extents again under a later version, so the federate never takes them for
+   * the extents it has cached.
+   */
+  public void reset()
+  {
+    for (Map.Entry<RegionHandle, SentRegionVersion> entry : sentRegionVersions.entrySet())
+    {
+      entry.setValue(new SentRegionVersion(entry.getValue().version, null));
+    }
+  }
+
+  private static class SentRegionVersion
+  {
+    private final int version;
+
+    /**
+     * The extents sent with this version, {@code null} once they are forgotten.
+     */
+    private final Map<DimensionHandle, RangeBounds> rangeBounds;
+
+    private SentRegionVersion(int version, Map<DimensionHandle, RangeBounds> rangeBounds)
+    {
+      this.version = version;
+      this.rangeBounds = rangeBounds;
+    }
+  }
+}
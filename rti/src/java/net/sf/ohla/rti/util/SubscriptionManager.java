@@ -18,14 +18,17 @@ package net.sf.ohla.rti.util;
 
 import java.io.IOException;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import net.sf.ohla.rti.fdd.FDD;
 import net.sf.ohla.rti.fdd.InteractionClass;
 import net.sf.ohla.rti.fdd.ObjectClass;
-import net.sf.ohla.rti.hla.rti1516e.IEEE1516eParameterHandleValueMapFactory;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
 import net.sf.ohla.rti.proto.OHLAProtos;
 
 import com.google.protobuf.CodedInputStream;
@@ -37,8 +40,6 @@ import hla.rti1516e.AttributeRegionAssociation;
 import hla.rti1516e.AttributeSetRegionSetPairList;
 import hla.rti1516e.InteractionClassHandle;
 import hla.rti1516e.ObjectClassHandle;
-import hla.rti1516e.ParameterHandle;
-import hla.rti1516e.ParameterHandleValueMap;
 import hla.rti1516e.RegionHandle;
 import hla.rti1516e.RegionHandleSet;
 
@@ -106,6 +107,25 @@ public class SubscriptionManager
     return subscribedObjectClasses.containsKey(objectClassHandle);
   }
 
+  public Set<ObjectClassHandle> getSubscribedObjectClassHandles()
+  {
+    return subscribedObjectClasses.keySet();
+  }
+
+  /**
+   * Returns the {@code AttributeHandle}s explicitly subscribed at the specified object class. This method does
+   * <b>not</b> include any attributes subscribed at any ancestors of the specified object class.
+   *
+   * @param objectClassHandle the specified {@code ObjectClassHandle}
+   * @return the {@code AttributeHandle}s explicitly subscribed at the specified object class
+   */
+  public Set<AttributeHandle> getSubscribedAttributeHandles(ObjectClassHandle objectClassHandle)
+  {
+    ObjectClassSubscription objectClassSubscription = subscribedObjectClasses.get(objectClassHandle);
+    return objectClassSubscription == null ?
+      Collections.<AttributeHandle>emptySet() : objectClassSubscription.getAttributeSubscriptions().keySet();
+  }
+
   public void subscribeObjectClassAttributes(
     ObjectClass objectClass, AttributeHandleSet attributeHandles, boolean passive)
   {
@@ -179,6 +199,11 @@ public class SubscriptionManager
     return subscribedInteractionClasses.containsKey(interactionClassHandle);
   }
 
+  public Set<InteractionClassHandle> getSubscribedInteractionClassHandles()
+  {
+    return subscribedInteractionClasses.keySet();
+  }
+
   public void subscribeInteractionClass(InteractionClass interactionClass, boolean passive)
   {
     InteractionClassSubscription interactionClassSubscription =
@@ -663,22 +688,33 @@ public class SubscriptionManager
       return interactionClassSubscription;
     }
 
-    public ParameterHandleValueMap trim(InteractionClass interactionClass, ParameterHandleValueMap parameterValues)
+    /**
+     * Trims the specified parameter values down to the parameters at the subscribed interaction level.
+     *
+     * @param interactionClass the interaction class the parameter values were sent with
+     * @param parameterValues the parameter values
+     * @return the trimmed parameter values, or {@code null} if no trimming was necessary
+     */
+    public List<MessageProtos.ParameterValue> trim(
+      InteractionClass interactionClass, List<MessageProtos.ParameterValue> parameterValues)
     {
-      ParameterHandleValueMap trimmedParameterValues;
+      List<MessageProtos.ParameterValue> trimmedParameterValues;
       if (this.interactionClass == interactionClass)
       {
-        trimmedParameterValues = parameterValues;
+        trimmedParameterValues = null;
       }
       else
       {
-        trimmedParameterValues = IEEE1516eParameterHandleValueMapFactory.INSTANCE.create(parameterValues.size());
+        trimmedParameterValues = new ArrayList<>(parameterValues.size());
 
         // keep the parameters only at the interaction level that is subscribed
         //
-        for (ParameterHandle parameterHandle : this.interactionClass.getParameters().keySet())
+        for (MessageProtos.ParameterValue parameterValue : parameterValues)
         {
-          trimmedParameterValues.put(parameterHandle, parameterValues.get(parameterHandle));
+          if (this.interactionClass.hasParameter(ParameterHandles.convert(parameterValue.getParameterHandle())))
+          {
+            trimmedParameterValues.add(parameterValue);
+          }
         }
       }
       return trimmedParameterValues;
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.benchmark;
+
+import java.util.Locale;
+
+/**
+ * A minimal timing harness for the micro-benchmarks in this package. Each benchmark warms up the operation before
+ * measuring it so the JIT has a chance to compile the hot paths.
+ */
+public abstract class Benchmark
+{
+  public static final long DEFAULT_WARMUP_MILLIS = Long.getLong("benchmark.warmup", 2000L);
+  public static final long DEFAULT_MEASUREMENT_MILLIS = Long.getLong("benchmark.measurement", 3000L);
+
+  private final String name;
+
+  protected Benchmark(String name)
+  {
+    this.name = name;
+  }
+
+  public String getName()
+  {
+    return name;
+  }
+
+  /**
+   * Executes a single operation.
+   */
+  protected abstract void execute()
+    throws Exception;
+
+  /**
+   * Runs the benchmark with the default warmup and measurement periods.
+   *
+   * @return the number of operations per second
+   */
+  public double run()
+    throws Exception
+  {
+    return run(DEFAULT_WARMUP_MILLIS, DEFAULT_MEASUREMENT_MILLIS);
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param warmupMillis the amount of time to warm up for
+   * @param measurementMillis the amount of time to measure for
+   * @return the number of operations per second
+   */
+  public double run(long warmupMillis, long measurementMillis)
+    throws Exception
+  {
+    loop(warmupMillis);
+
+    return loop(measurementMillis);
+  }
+
+  /**
+   * Runs the benchmark and prints the result.
+   *
+   * @return the number of operations per second
+   */
+  public double runAndReport()
+    throws Exception
+  {
+    double operationsPerSecond = run();
+
+    System.out.println(String.format(Locale.US, "%-60s %,15.1f ops/s", name, operationsPerSecond));
+
+    return operationsPerSecond;
+  }
+
+  private double loop(long millis)
+    throws Exception
+  {
+    long operations = 0L;
+    long start = System.nanoTime();
+    long end = start + millis * 1000000L;
+
+    long now;
+    do
+    {
+      // check the clock every few operations so it does not dominate cheap operations
+      //
+      for (int i = 0; i < 16; i++)
+      {
+        execute();
+      }
+      operations += 16;
+    } while ((now = System.nanoTime()) < end);
+
+    return operations * 1000000000.0 / (now - start);
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.sf.ohla.rti.testsuite.benchmark;
+
+import java.net.URL;
+
+import net.sf.ohla.rti.RTI;
+import net.sf.ohla.rti.federation.FederationExecutionTimeManager;
+
+import hla.rti1516e.CallbackModel;
+import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactoryFactory;
+import hla.rti1516e.NullFederateAmbassador;
+import hla.rti1516e.RTIambassador;
+import hla.rti1516e.ResignAction;
+import hla.rti1516e.RtiFactoryFactory;
+import hla.rti1516e.time.HLAinteger64Interval;
+import hla.rti1516e.time.HLAinteger64Time;
+import hla.rti1516e.time.HLAinteger64TimeFactory;
+
+/**
+ * Measures how many lockstep time advances per second {@link #FEDERATE_COUNT} time regulating and time constrained
+ * federates make over loopback, with the RTI granting every time advance and with the federates granting their own
+ * from the LOTS the others announce. Each operation is every federate requesting a time advance of one and waiting for
+ * its grant.
+ */
+public class DistributedTimeManagementBenchmark
+{
+  private static final int FEDERATE_COUNT = Integer.getInteger("benchmark.federates", 100);
+
+  private static final String FDD = "TestObjectModel-ieee-1516e.xml";
+
+  private final HLAinteger64TimeFactory logicalTimeFactory =
+    LogicalTimeFactoryFactory.getLogicalTimeFactory(HLAinteger64TimeFactory.class);
+
+  private final HLAinteger64Interval lookahead = logicalTimeFactory.makeInterval(1L);
+
+  private final URL fdd = Thread.currentThread().getContextClassLoader().getResource(FDD);
+
+  private long timeAdvancesGranted;
+
+  public void run()
+    throws Exception
+  {
+    new RTI();
+
+    LockstepTimeAdvance central = new LockstepTimeAdvance("central, " + FEDERATE_COUNT + " federates", "central");
+    double centralRate = central.runAndReport();
+    central.close();
+
+    // the time management mode is picked up when the federation execution is created
+    //
+    System.setProperty(FederationExecutionTimeManager.OHLA_RTI_TIME_MANAGEMENT_DISTRIBUTED_PROPERTY, "true");
+
+    LockstepTimeAdvance distributed =
+      new LockstepTimeAdvance("distributed, " + FEDERATE_COUNT + " federates", "distributed");
+    double distributedRate = distributed.runAndReport();
+    distributed.close();
+
+    System.out.println(String.format("%-60s %15.2fx", "speedup", distributedRate / centralRate));
+
+    // keep the grants alive so the federate ambassadors cannot be optimized away
+    //
+    System.out.println("granted " + timeAdvancesGranted + " time advances");
+  }
+
+  public static void main(String... args)
+    throws Exception
+  {
+    new DistributedTimeManagementBenchmark().run();
+
+    System.exit(0);
+  }
+
+  private class LockstepTimeAdvance
+    extends Benchmark
+  {
+    private final String federationExecutionName;
+
+    private final RTIambassador[] rtiAmbassadors = new RTIambassador[FEDERATE_COUNT];
+
+    private HLAinteger64Time time = logicalTimeFactory.makeInitial();
+
+    private int pending;
+
+    public LockstepTimeAdvance(String name, String federationExecutionName)
+      throws Exception
+    {
+      super(name);
+
+      this.federationExecutionName = federationExecutionName;
+
+      for (int i = 0; i < FEDERATE_COUNT; i++)
+      {
+        rtiAmbassadors[i] = RtiFactoryFactory.getRtiFactory().getRtiAmbassador();
+        rtiAmbassadors[i].connect(new NullFederateAmbassador()
+        {
+          @Override
+          public void timeRegulationEnabled(LogicalTime time)
+          {
+            pending--;
+          }
+
+          @Override
+          public void timeConstrainedEnabled(LogicalTime time)
+          {
+            pending--;
+          }
+
+          @Override
+          public void timeAdvanceGrant(LogicalTime time)
+          {
+            pending--;
+            timeAdvancesGranted++;
+          }
+        }, CallbackModel.HLA_EVOKED);
+
+        if (i == 0)
+        {
+          rtiAmbassadors[i].createFederationExecution(
+            federationExecutionName, new URL[] { fdd }, HLAinteger64TimeFactory.NAME);
+        }
+
+        rtiAmbassadors[i].joinFederationExecution("federate-" + i, "benchmark", federationExecutionName);
+      }
+
+      for (RTIambassador rtiAmbassador : rtiAmbassadors)
+      {
+        rtiAmbassador.enableTimeRegulation(lookahead);
+        pending++;
+      }
+      awaitCallbacks();
+
+      for (RTIambassador rtiAmbassador : rtiAmbassadors)
+      {
+        rtiAmbassador.enableTimeConstrained();
+        pending++;
+      }
+      awaitCallbacks();
+    }
+
+    protected void execute()
+      throws Exception
+    {
+      time = time.add(lookahead);
+
+      for (RTIambassador rtiAmbassador : rtiAmbassadors)
+      {
+        rtiAmbassador.timeAdvanceRequest(time);
+        pending++;
+      }
+      awaitCallbacks();
+    }
+
+    public void close()
+      throws Exception
+    {
+      for (RTIambassador rtiAmbassador : rtiAmbassadors)
+      {
+        rtiAmbassador.resignFederationExecution(ResignAction.NO_ACTION);
+      }
+
+      rtiAmbassadors[0].destroyFederationExecution(federationExecutionName);
+
+      for (RTIambassador rtiAmbassador : rtiAmbassadors)
+      {
+        rtiAmbassador.disconnect();
+      }
+    }
+
+    private void awaitCallbacks()
+      throws Exception
+    {
+      while (pending > 0)
+      {
+        for (RTIambassador rtiAmbassador : rtiAmbassadors)
+        {
+          rtiAmbassador.evokeMultipleCallbacks(0.0, 0.0);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.benchmark;
+
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAASCIIstring;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAfixedRecord;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAfloat32LE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAfloat64BE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAinteger32BE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAvariableArray;
+import net.sf.ohla.rti.hla.rti1516e.encoding.IEEE1516eEncoderFactory;
+import net.sf.ohla.rti.hla.rti1516e.encoding.IEEE1516eHLAfixedRecord;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.DataElementFactory;
+import hla.rti1516e.encoding.HLAASCIIstring;
+import hla.rti1516e.encoding.HLAfloat32LE;
+import hla.rti1516e.encoding.HLAfloat64BE;
+import hla.rti1516e.encoding.HLAinteger32BE;
+import hla.rti1516e.encoding.HLAvariableArray;
+
+/**
+ * Measures how fast an entity-state like record (an id, a position, a name and an array of 32 floats) can be encoded
+ * and decoded with the IEEE 1516 jlc data elements and with the IEEE 1516e data elements. The jlc elements cannot be
+ * changed once created so every encode builds a new record, while the IEEE 1516e record is built once and encoded into
+ * the same buffer over and over.
+ */
+public class EncodingBenchmark
+{
+  private static final int FLOAT_COUNT = 32;
+
+  private static final String NAME = "entity-0042";
+
+  private final IEEE1516eEncoderFactory encoderFactory = IEEE1516eEncoderFactory.INSTANCE;
+
+  private long sink;
+
+  public void run()
+    throws Exception
+  {
+    double jlcEncode = new JLCEncode().runAndReport();
+    double encode = new Encode().runAndReport();
+
+    System.out.println(String.format("%-60s %15.2fx", "encode speedup", encode / jlcEncode));
+
+    double jlcDecode = new JLCDecode().runAndReport();
+    double decode = new Decode().runAndReport();
+
+    System.out.println(String.format("%-60s %15.2fx", "decode speedup", decode / jlcDecode));
+
+    // keep the results alive so they cannot be optimized away
+    //
+    System.out.println("sink " + sink);
+  }
+
+  public static void main(String... args)
+    throws Exception
+  {
+    new EncodingBenchmark().run();
+  }
+
+  private static IEEE1516HLAfixedRecord createJLCRecord(int id)
+  {
+    IEEE1516HLAfloat32LE[] floats = new IEEE1516HLAfloat32LE[FLOAT_COUNT];
+    for (int i = 0; i < FLOAT_COUNT; i++)
+    {
+      floats[i] = new IEEE1516HLAfloat32LE(id + i);
+    }
+
+    IEEE1516HLAfixedRecord record = new IEEE1516HLAfixedRecord();
+    record.add(new IEEE1516HLAinteger32BE(id));
+    record.add(new IEEE1516HLAfloat64BE(id));
+    record.add(new IEEE1516HLAfloat64BE(id + 1));
+    record.add(new IEEE1516HLAfloat64BE(id + 2));
+    record.add(new IEEE1516HLAASCIIstring(NAME));
+    record.add(new IEEE1516HLAvariableArray(floats));
+    return record;
+  }
+
+  private class EntityState
+  {
+    private final HLAinteger32BE id = encoderFactory.createHLAinteger32BE();
+    private final HLAfloat64BE x = encoderFactory.createHLAfloat64BE();
+    private final HLAfloat64BE y = encoderFactory.createHLAfloat64BE();
+    private final HLAfloat64BE z = encoderFactory.createHLAfloat64BE();
+    private final HLAASCIIstring name = encoderFactory.createHLAASCIIstring();
+    private final HLAvariableArray<HLAfloat32LE> floats = encoderFactory.createHLAvariableArray(
+      new DataElementFactory<HLAfloat32LE>()
+      {
+        public HLAfloat32LE createElement(int index)
+        {
+          return encoderFactory.createHLAfloat32LE();
+        }
+      });
+
+    private final IEEE1516eHLAfixedRecord record = (IEEE1516eHLAfixedRecord) encoderFactory.createHLAfixedRecord();
+
+    public EntityState()
+    {
+      record.add(id);
+      record.add(x);
+      record.add(y);
+      record.add(z);
+      record.add(name);
+      record.add(floats);
+
+      floats.resize(FLOAT_COUNT);
+    }
+
+    public void set(int id)
+    {
+      this.id.setValue(id);
+      x.setValue(id);
+      y.setValue(id + 1);
+      z.setValue(id + 2);
+      name.setValue(NAME);
+      for (int i = 0; i < FLOAT_COUNT; i++)
+      {
+        floats.get(i).setValue(id + i);
+      }
+    }
+  }
+
+  private class JLCEncode
+    extends Benchmark
+  {
+    private int id;
+
+    public JLCEncode()
+    {
+      super("jlc encode");
+    }
+
+    protected void execute()
+    {
+      sink += createJLCRecord(id++).toByteArray().length;
+    }
+  }
+
+  private class Encode
+    extends Benchmark
+  {
+    private final EntityState entityState = new EntityState();
+
+    private final byte[] buffer;
+
+    private int id;
+
+    public Encode()
+    {
+      super("1516e encode");
+
+      entityState.set(id);
+      buffer = new byte[entityState.record.getEncodedLength()];
+    }
+
+    protected void execute()
+      throws Exception
+    {
+      entityState.set(id++);
+
+      sink += entityState.record.encode(buffer, 0);
+    }
+  }
+
+  private class JLCDecode
+    extends Benchmark
+  {
+    private final IEEE1516HLAfixedRecord record = createJLCRecord(0);
+
+    private final byte[] bytes = createJLCRecord(42).toByteArray();
+
+    public JLCDecode()
+    {
+      super("jlc decode");
+    }
+
+    protected void execute()
+    {
+      record.decode(new hla.rti1516.jlc.ByteWrapper(bytes));
+
+      sink += ((IEEE1516HLAinteger32BE) record.get(0)).getValue();
+    }
+  }
+
+  private class Decode
+    extends Benchmark
+  {
+    private final EntityState entityState = new EntityState();
+
+    private final byte[] bytes;
+
+    private final ByteWrapper byteWrapper;
+
+    public Decode()
+      throws Exception
+    {
+      super("1516e decode");
+
+      EntityState encoded = new EntityState();
+      encoded.set(42);
+      bytes = encoded.record.toByteArray();
+
+      byteWrapper = new ByteWrapper(bytes);
+    }
+
+    protected void execute()
+      throws Exception
+    {
+      byteWrapper.reset();
+      entityState.record.decode(byteWrapper);
+
+      sink += entityState.id.getValue();
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandleValueMap;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eFederateHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eObjectInstanceHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eTransportationTypeHandle;
+import net.sf.ohla.rti.messages.MessageEncoder;
+import net.sf.ohla.rti.messages.UpdateAttributeValues;
+import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValues;
+import net.sf.ohla.rti.messages.proto.FederationExecutionMessageProtos;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.handler.codec.embedder.EncoderEmbedder;
+
+import hla.rti1516e.AttributeHandleValueMap;
+import hla.rti1516e.FederateHandle;
+import hla.rti1516e.OrderType;
+
+/**
+ * Measures how fast the RTI can fan a single 2 KB attribute update out to a growing number of subscribers. The
+ * 'copied' variant gives every subscriber its own copy of the attribute values, which is what happens when the values
+ * need to be trimmed, while the 'shared' variant encodes the attribute values once and shares them between all the
+ * subscribers.
+ */
+public class FanOutBenchmark
+{
+  private static final int ATTRIBUTE_COUNT = 16;
+  private static final int ATTRIBUTE_VALUE_SIZE = 128;
+
+  private static final int[] SUBSCRIBER_COUNTS = { 1, 5, 10, 20, 40, 80 };
+
+  private final FederateHandle producingFederateHandle = new IEEE1516eFederateHandle(1);
+
+  private final FederationExecutionMessageProtos.UpdateAttributeValues updateAttributeValues;
+
+  private final EncoderEmbedder<ChannelBuffer> encoder = new EncoderEmbedder<ChannelBuffer>(new MessageEncoder());
+
+  private long bytesEncoded;
+
+  public FanOutBenchmark()
+  {
+    Random random = new Random(0L);
+
+    AttributeHandleValueMap attributeValues = new IEEE1516eAttributeHandleValueMap(ATTRIBUTE_COUNT);
+    for (int i = 0; i < ATTRIBUTE_COUNT; i++)
+    {
+      byte[] value = new byte[ATTRIBUTE_VALUE_SIZE];
+      random.nextBytes(value);
+
+      attributeValues.put(new IEEE1516eAttributeHandle(i + 1), value);
+    }
+
+    updateAttributeValues = new UpdateAttributeValues(
+      new IEEE1516eObjectInstanceHandle(producingFederateHandle, 1L), attributeValues,
+      new IEEE1516eTransportationTypeHandle(1), new byte[0]).getMessageLite();
+  }
+
+  public void run()
+    throws Exception
+  {
+    for (int subscriberCount : SUBSCRIBER_COUNTS)
+    {
+      double copied = new FanOut("copied, " + subscriberCount + " subscribers", subscriberCount, false).runAndReport();
+      double shared = new FanOut("shared, " + subscriberCount + " subscribers", subscriberCount, true).runAndReport();
+
+      System.out.println(String.format("%-60s %15.2fx", "speedup", shared / copied));
+    }
+
+    // keep the encoded bytes alive so the encoding cannot be optimized away
+    //
+    System.out.println("encoded " + bytesEncoded + " bytes");
+  }
+
+  public static void main(String... args)
+    throws Exception
+  {
+    new FanOutBenchmark().run();
+  }
+
+  private class FanOut
+    extends Benchmark
+  {
+    private final int subscriberCount;
+    private final boolean shared;
+
+    public FanOut(String name, int subscriberCount, boolean shared)
+    {
+      super(name);
+
+      this.subscriberCount = subscriberCount;
+      this.shared = shared;
+    }
+
+    protected void execute()
+    {
+      // every fan-out starts from a freshly received update
+      //
+      UpdateAttributeValues updateAttributeValues = new UpdateAttributeValues(FanOutBenchmark.this.updateAttributeValues);
+
+      for (int i = 0; i < subscriberCount; i++)
+      {
+        List<MessageProtos.AttributeValue> trimmedAttributeValues =
+          shared ? null : new ArrayList<>(updateAttributeValues.getBuilder().getAttributeValuesList());
+
+        encoder.offer(new ReflectAttributeValues(
+          updateAttributeValues, trimmedAttributeValues, OrderType.RECEIVE, producingFederateHandle, null));
+
+        bytesEncoded += encoder.poll().readableBytes();
+      }
+    }
+  }
+}
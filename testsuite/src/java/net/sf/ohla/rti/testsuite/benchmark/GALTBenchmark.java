@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.sf.ohla.rti.testsuite.benchmark;
+
+import java.util.Random;
+
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eFederateHandle;
+import net.sf.ohla.rti.hla.rti1516e.time.IEEE1516eHLAinteger64Interval;
+import net.sf.ohla.rti.hla.rti1516e.time.IEEE1516eHLAinteger64Time;
+import net.sf.ohla.rti.util.IndexedMinHeap;
+
+import hla.rti1516e.FederateHandle;
+import hla.rti1516e.time.HLAinteger64Interval;
+import hla.rti1516e.time.HLAinteger64Time;
+
+/**
+ * Measures how fast the federation-wide GALT and the GALT of every time regulating federate can be recalculated while
+ * the time regulating federates take turns requesting time advances. The 'pairwise' variant finds the least LOTS of
+ * all the other time regulating federates for each time regulating federate, while the 'heap' variant keeps the LOTS
+ * in an {@link IndexedMinHeap}.
+ */
+public class GALTBenchmark
+{
+  private static final int[] TIME_REGULATING_FEDERATE_COUNTS = { 10, 100, 1000 };
+
+  private static final HLAinteger64Interval STEP = new IEEE1516eHLAinteger64Interval(10L);
+
+  private long sink;
+
+  public void run()
+    throws Exception
+  {
+    for (int timeRegulatingFederateCount : TIME_REGULATING_FEDERATE_COUNTS)
+    {
+      double pairwise = new TimeAdvanceRequests(
+        "pairwise, " + timeRegulatingFederateCount + " regulating", timeRegulatingFederateCount, false).runAndReport();
+      double heap = new TimeAdvanceRequests(
+        "heap, " + timeRegulatingFederateCount + " regulating", timeRegulatingFederateCount, true).runAndReport();
+
+      System.out.println(String.format("%-60s %15.2fx", "speedup", heap / pairwise));
+    }
+
+    // keep the calculated GALTs alive so they cannot be optimized away
+    //
+    System.out.println("sink " + sink);
+  }
+
+  public static void main(String... args)
+    throws Exception
+  {
+    new GALTBenchmark().run();
+  }
+
+  private class TimeAdvanceRequests
+    extends Benchmark
+  {
+    private final boolean heap;
+
+    private final FederateHandle[] federateHandles;
+    private final HLAinteger64Time[] federateTimes;
+    private final HLAinteger64Interval[] lookaheads;
+    private final HLAinteger64Time[] lots;
+
+    private final IndexedMinHeap<FederateHandle, HLAinteger64Time> timeRegulatingFederateLOTS =
+      new IndexedMinHeap<>();
+
+    private int next;
+
+    public TimeAdvanceRequests(String name, int timeRegulatingFederateCount, boolean heap)
+      throws Exception
+    {
+      super(name);
+
+      this.heap = heap;
+
+      federateHandles = new FederateHandle[timeRegulatingFederateCount];
+      federateTimes = new HLAinteger64Time[timeRegulatingFederateCount];
+      lookaheads = new HLAinteger64Interval[timeRegulatingFederateCount];
+      lots = new HLAinteger64Time[timeRegulatingFederateCount];
+
+      Random random = new Random(0L);
+      for (int i = 0; i < timeRegulatingFederateCount; i++)
+      {
+        federateHandles[i] = new IEEE1516eFederateHandle(i + 1);
+        federateTimes[i] = IEEE1516eHLAinteger64Time.INITIAL;
+        lookaheads[i] = new IEEE1516eHLAinteger64Interval(1L + random.nextInt(10));
+        lots[i] = federateTimes[i].add(lookaheads[i]);
+
+        timeRegulatingFederateLOTS.put(federateHandles[i], lots[i]);
+      }
+    }
+
+    protected void execute()
+      throws Exception
+    {
+      // the next federate in line requests a time advance which moves its LOTS
+      //
+      int i = next;
+      next = (next + 1) % federateHandles.length;
+
+      federateTimes[i] = federateTimes[i].add(STEP);
+      lots[i] = federateTimes[i].add(lookaheads[i]);
+
+      if (heap)
+      {
+        timeRegulatingFederateLOTS.put(federateHandles[i], lots[i]);
+
+        sink += timeRegulatingFederateLOTS.peekValue().getValue();
+
+        for (FederateHandle federateHandle : federateHandles)
+        {
+          sink += timeRegulatingFederateLOTS.peekValueExcluding(federateHandle).getValue();
+        }
+      }
+      else
+      {
+        HLAinteger64Time galt = lots[0];
+        for (int j = 1; j < lots.length; j++)
+        {
+          galt = min(galt, lots[j]);
+        }
+
+        sink += galt.getValue();
+
+        for (int j = 0; j < lots.length; j++)
+        {
+          HLAinteger64Time localGALT = IEEE1516eHLAinteger64Time.FINAL;
+          for (int k = 0; k < lots.length; k++)
+          {
+            if (j != k)
+            {
+              localGALT = min(localGALT, lots[k]);
+            }
+          }
+
+          sink += localGALT.getValue();
+        }
+      }
+    }
+
+    private HLAinteger64Time min(HLAinteger64Time lhs, HLAinteger64Time rhs)
+    {
+      return lhs.compareTo(rhs) <= 0 ? lhs : rhs;
+    }
+  }
+}
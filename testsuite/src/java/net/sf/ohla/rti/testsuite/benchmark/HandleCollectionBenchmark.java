@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandleSet;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandleValueMap;
+import net.sf.ohla.rti.util.AttributeHandles;
+
+import hla.rti1516e.AttributeHandle;
+
+/**
+ * Compares the primitive keyed handle collections with the boxed {@code HashSet} and {@code HashMap} they replaced,
+ * and interned handle conversion with allocating a handle every time. Each operation builds a collection the size of a
+ * typical update, looks every handle up and iterates over it. Besides the throughput the bytes allocated per operation
+ * are reported, as measured by the JVM's per thread allocation counter.
+ */
+public class HandleCollectionBenchmark
+{
+  private static final int[] HANDLE_COUNTS = { 4, 16, 64 };
+
+  private static final int ALLOCATION_OPERATIONS = 100000;
+
+  /**
+   * Handles are spread out over the handle space, as they are in a large FOM.
+   */
+  private static final int HANDLE_STRIDE = 37;
+
+  private final com.sun.management.ThreadMXBean threadMXBean =
+    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  private long sink;
+
+  public void run()
+    throws Exception
+  {
+    for (int handleCount : HANDLE_COUNTS)
+    {
+      AttributeHandle[] attributeHandles = new AttributeHandle[handleCount];
+      for (int i = 0; i < handleCount; i++)
+      {
+        attributeHandles[i] = AttributeHandles.convert(1 + i * HANDLE_STRIDE);
+      }
+
+      compare(new SetBenchmark("HashSet, " + handleCount + " handles", attributeHandles, false),
+              new SetBenchmark("IEEE1516eAttributeHandleSet, " + handleCount + " handles", attributeHandles, true));
+      compare(new MapBenchmark("HashMap, " + handleCount + " handles", attributeHandles, false),
+              new MapBenchmark(
+                "IEEE1516eAttributeHandleValueMap, " + handleCount + " handles", attributeHandles, true));
+      compare(new ConvertBenchmark("new handle, " + handleCount + " handles", handleCount, false),
+              new ConvertBenchmark("interned handle, " + handleCount + " handles", handleCount, true));
+    }
+
+    // keep the results alive so they cannot be optimized away
+    //
+    System.out.println("sink " + sink);
+  }
+
+  public static void main(String... args)
+    throws Exception
+  {
+    new HandleCollectionBenchmark().run();
+  }
+
+  private void compare(Benchmark boxed, Benchmark primitive)
+    throws Exception
+  {
+    double boxedOperationsPerSecond = boxed.runAndReport();
+    long boxedBytes = bytesPerOperation(boxed);
+    double primitiveOperationsPerSecond = primitive.runAndReport();
+    long primitiveBytes = bytesPerOperation(primitive);
+
+    System.out.println(String.format(
+      Locale.US, "%-60s %15.2fx (%,d -> %,d bytes/op)", "speedup",
+      primitiveOperationsPerSecond / boxedOperationsPerSecond, boxedBytes, primitiveBytes));
+  }
+
+  private long bytesPerOperation(Benchmark benchmark)
+    throws Exception
+  {
+    long threadId = Thread.currentThread().getId();
+
+    long before = threadMXBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < ALLOCATION_OPERATIONS; i++)
+    {
+      benchmark.execute();
+    }
+    return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / ALLOCATION_OPERATIONS;
+  }
+
+  private class SetBenchmark
+    extends Benchmark
+  {
+    private final AttributeHandle[] attributeHandles;
+    private final boolean primitive;
+
+    public SetBenchmark(String name, AttributeHandle[] attributeHandles, boolean primitive)
+    {
+      super(name);
+
+      this.attributeHandles = attributeHandles;
+      this.primitive = primitive;
+    }
+
+    @Override
+    protected void execute()
+    {
+      Set<AttributeHandle> attributeHandleSet = primitive ?
+        new IEEE1516eAttributeHandleSet(attributeHandles.length) :
+        new HashSet<AttributeHandle>(attributeHandles.length);
+      for (AttributeHandle attributeHandle : attributeHandles)
+      {
+        attributeHandleSet.add(attributeHandle);
+      }
+      for (AttributeHandle attributeHandle : attributeHandles)
+      {
+        sink += attributeHandleSet.contains(attributeHandle) ? 1 : 0;
+      }
+      for (AttributeHandle attributeHandle : attributeHandleSet)
+      {
+        sink += attributeHandle.hashCode();
+      }
+    }
+  }
+
+  private class MapBenchmark
+    extends Benchmark
+  {
+    private final AttributeHandle[] attributeHandles;
+    private final boolean primitive;
+
+    private final byte[] value = new byte[8];
+
+    public MapBenchmark(String name, AttributeHandle[] attributeHandles, boolean primitive)
+    {
+      super(name);
+
+      this.attributeHandles = attributeHandles;
+      this.primitive = primitive;
+    }
+
+    @Override
+    protected void execute()
+    {
+      Map<AttributeHandle, byte[]> attributeValues = primitive ?
+        new IEEE1516eAttributeHandleValueMap(attributeHandles.length) :
+        new HashMap<AttributeHandle, byte[]>(attributeHandles.length);
+      for (AttributeHandle attributeHandle : attributeHandles)
+      {
+        attributeValues.put(attributeHandle, value);
+      }
+      for (AttributeHandle attributeHandle : attributeHandles)
+      {
+        sink += attributeValues.get(attributeHandle).length;
+      }
+      for (Map.Entry<AttributeHandle, byte[]> entry : attributeValues.entrySet())
+      {
+        sink += entry.getValue().length;
+      }
+    }
+  }
+
+  private class ConvertBenchmark
+    extends Benchmark
+  {
+    private final int handleCount;
+    private final boolean interned;
+
+    public ConvertBenchmark(String name, int handleCount, boolean interned)
+    {
+      super(name);
+
+      this.handleCount = handleCount;
+      this.interned = interned;
+    }
+
+    @Override
+    protected void execute()
+    {
+      for (int i = 0; i < handleCount; i++)
+      {
+        int handle = 1 + i * HANDLE_STRIDE;
+        sink += (interned ? AttributeHandles.convert(handle) : new IEEE1516eAttributeHandle(handle)).hashCode();
+      }
+    }
+  }
+}
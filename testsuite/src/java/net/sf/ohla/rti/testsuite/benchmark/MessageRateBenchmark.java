@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.benchmark;
+
+import java.net.InetSocketAddress;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandleValueMap;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eFederateHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eObjectInstanceHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eTransportationTypeHandle;
+import net.sf.ohla.rti.messages.CoalescingWriteHandler;
+import net.sf.ohla.rti.messages.MessageDecoder;
+import net.sf.ohla.rti.messages.MessageEncoder;
+import net.sf.ohla.rti.messages.UpdateAttributeValues;
+
+import org.jboss.netty.bootstrap.ClientBootstrap;
+import org.jboss.netty.bootstrap.ServerBootstrap;
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelFactory;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.ChannelPipeline;
+import org.jboss.netty.channel.ChannelPipelineFactory;
+import org.jboss.netty.channel.Channels;
+import org.jboss.netty.channel.MessageEvent;
+import org.jboss.netty.channel.SimpleChannelUpstreamHandler;
+import org.jboss.netty.channel.socket.nio.NioClientSocketChannelFactory;
+import org.jboss.netty.channel.socket.nio.NioServerSocketChannelFactory;
+
+import hla.rti1516e.AttributeHandleValueMap;
+
+/**
+ * Measures how many small attribute updates per second a federate can send to the RTI over loopback. Each update
+ * carries 4 attributes of 16 bytes. The sender is kept at most {@link #MAX_IN_FLIGHT} messages ahead of the receiver so
+ * the rate measured is the rate at which messages are received, with and without coalescing the writes.
+ */
+public class MessageRateBenchmark
+{
+  private static final int ATTRIBUTE_COUNT = 4;
+  private static final int ATTRIBUTE_VALUE_SIZE = 16;
+
+  private static final int MAX_IN_FLIGHT = 4096;
+
+  private final UpdateAttributeValues updateAttributeValues;
+
+  public MessageRateBenchmark()
+  {
+    Random random = new Random(0L);
+
+    AttributeHandleValueMap attributeValues = new IEEE1516eAttributeHandleValueMap(ATTRIBUTE_COUNT);
+    for (int i = 0; i < ATTRIBUTE_COUNT; i++)
+    {
+      byte[] value = new byte[ATTRIBUTE_VALUE_SIZE];
+      random.nextBytes(value);
+
+      attributeValues.put(new IEEE1516eAttributeHandle(i + 1), value);
+    }
+
+    updateAttributeValues = new UpdateAttributeValues(
+      new IEEE1516eObjectInstanceHandle(new IEEE1516eFederateHandle(1), 1L), attributeValues,
+      new IEEE1516eTransportationTypeHandle(1), new byte[0]);
+  }
+
+  public void run()
+    throws Exception
+  {
+    double uncoalesced = new MessageRate("uncoalesced", false).runAndReport();
+    double coalesced = new MessageRate("coalesced", true).runAndReport();
+
+    System.out.println(String.format("%-60s %15.2fx", "speedup", coalesced / uncoalesced));
+  }
+
+  public static void main(String... args)
+    throws Exception
+  {
+    new MessageRateBenchmark().run();
+  }
+
+  private class MessageRate
+    extends Benchmark
+  {
+    private final boolean coalesce;
+
+    private final AtomicLong received = new AtomicLong();
+
+    private long sent;
+
+    private Channel channel;
+
+    public MessageRate(String name, boolean coalesce)
+    {
+      super(name);
+
+      this.coalesce = coalesce;
+    }
+
+    @Override
+    public double run(long warmupMillis, long measurementMillis)
+      throws Exception
+    {
+      ChannelFactory serverChannelFactory = new NioServerSocketChannelFactory(
+        Executors.newCachedThreadPool(), Executors.newCachedThreadPool(), 1);
+      ChannelFactory clientChannelFactory = new NioClientSocketChannelFactory(
+        Executors.newCachedThreadPool(), Executors.newCachedThreadPool(), 1, 1);
+      try
+      {
+        ServerBootstrap serverBootstrap = new ServerBootstrap(serverChannelFactory);
+        serverBootstrap.setOption("child.tcpNoDelay", true);
+        serverBootstrap.setPipelineFactory(new ChannelPipelineFactory()
+        {
+          public ChannelPipeline getPipeline()
+          {
+            ChannelPipeline pipeline = createPipeline();
+            pipeline.addLast("counter", new SimpleChannelUpstreamHandler()
+            {
+              @Override
+              public void messageReceived(ChannelHandlerContext context, MessageEvent event)
+              {
+                received.incrementAndGet();
+              }
+            });
+            return pipeline;
+          }
+        });
+        Channel serverChannel = serverBootstrap.bind(new InetSocketAddress("127.0.0.1", 0));
+
+        ClientBootstrap clientBootstrap = new ClientBootstrap(clientChannelFactory);
+        clientBootstrap.setOption("tcpNoDelay", true);
+        clientBootstrap.setPipelineFactory(new ChannelPipelineFactory()
+        {
+          public ChannelPipeline getPipeline()
+          {
+            return createPipeline();
+          }
+        });
+        channel = clientBootstrap.connect(serverChannel.getLocalAddress()).awaitUninterruptibly().getChannel();
+
+        double messagesPerSecond = super.run(warmupMillis, measurementMillis);
+
+        channel.close().awaitUninterruptibly();
+        serverChannel.close().awaitUninterruptibly();
+
+        return messagesPerSecond;
+      }
+      finally
+      {
+        clientChannelFactory.releaseExternalResources();
+        serverChannelFactory.releaseExternalResources();
+      }
+    }
+
+    protected void execute()
+    {
+      while (sent - received.get() >= MAX_IN_FLIGHT)
+      {
+        Thread.yield();
+      }
+
+      channel.write(updateAttributeValues);
+      sent++;
+    }
+
+    private ChannelPipeline createPipeline()
+    {
+      ChannelPipeline pipeline = Channels.pipeline();
+      if (coalesce)
+      {
+        pipeline.addLast(CoalescingWriteHandler.NAME, new CoalescingWriteHandler());
+      }
+      pipeline.addLast(MessageEncoder.NAME, new MessageEncoder());
+      pipeline.addLast(MessageDecoder.NAME, new MessageDecoder());
+      return pipeline;
+    }
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.benchmark;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import net.sf.ohla.rti.fdd.FDD;
+import net.sf.ohla.rti.federation.FederationExecution;
+import net.sf.ohla.rti.federation.FederationExecutionRegion;
+import net.sf.ohla.rti.federation.FederationExecutionRegionManager;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eDimensionHandleSetFactory;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eFDDParser;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eFederateHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eRegionHandle;
+import net.sf.ohla.rti.hla.rti1516e.time.IEEE1516eHLAinteger64TimeFactory;
+import net.sf.ohla.rti.messages.CommitRegionModifications;
+import net.sf.ohla.rti.messages.CreateRegion;
+
+import hla.rti1516e.DimensionHandle;
+import hla.rti1516e.DimensionHandleSet;
+import hla.rti1516e.FederateHandle;
+import hla.rti1516e.RangeBounds;
+import hla.rti1516e.RegionHandle;
+
+/**
+ * Measures how fast the regions that overlap an update region can be found as the number of subscribed regions grows.
+ * Every region is a small entity-following region in two dimensions and the update region moves before every lookup.
+ * The 'linear' variant compares the update region with every subscribed region, while the 'index' variant asks the
+ * {@link FederationExecutionRegionManager}, which keeps the regions in a spatial index.
+ */
+public class RegionMatchingBenchmark
+{
+  private static final int[] REGION_COUNTS = { 10, 100, 1000, 10000, 100000 };
+
+  private static final long REGION_SIZE = 20L;
+
+  private final FDD fdd;
+  private final DimensionHandleSet dimensionHandles = IEEE1516eDimensionHandleSetFactory.INSTANCE.create();
+  private final long upperBound;
+
+  private long sink;
+
+  public RegionMatchingBenchmark()
+    throws Exception
+  {
+    fdd = IEEE1516eFDDParser.parseFDD(
+      Thread.currentThread().getContextClassLoader().getResource("TestObjectModel-ieee-1516e.xml"));
+
+    dimensionHandles.add(fdd.getDimensionSafely("Dimension3").getDimensionHandle());
+    dimensionHandles.add(fdd.getDimensionSafely("Dimension4").getDimensionHandle());
+
+    upperBound = Math.min(fdd.getDimensionSafely("Dimension3").getUpperBound(),
+                          fdd.getDimensionSafely("Dimension4").getUpperBound());
+  }
+
+  public void run()
+    throws Exception
+  {
+    for (int regionCount : REGION_COUNTS)
+    {
+      double linear = new RegionMatching("linear, " + regionCount + " regions", regionCount, false).runAndReport();
+      double index = new RegionMatching("index, " + regionCount + " regions", regionCount, true).runAndReport();
+
+      System.out.println(String.format("%-60s %15.2fx", "speedup", index / linear));
+    }
+
+    // keep the matched regions alive so they cannot be optimized away
+    //
+    System.out.println("sink " + sink);
+  }
+
+  public static void main(String... args)
+    throws Exception
+  {
+    new RegionMatchingBenchmark().run();
+  }
+
+  private class RegionMatching
+    extends Benchmark
+  {
+    private final boolean index;
+
+    private final FederationExecutionRegionManager regionManager;
+
+    private final List<FederationExecutionRegion> subscribedRegions = new ArrayList<>();
+
+    private final RegionHandle updateRegionHandle;
+    private final FederationExecutionRegion updateRegion;
+
+    private final Random random = new Random(0L);
+
+    public RegionMatching(String name, int regionCount, boolean index)
+    {
+      super(name);
+
+      this.index = index;
+
+      FederationExecution federationExecution = new FederationExecution(
+        name, fdd, new IEEE1516eHLAinteger64TimeFactory(), Paths.get(System.getProperty("java.io.tmpdir")), 1,
+        null);
+      regionManager = federationExecution.getRegionManager();
+
+      FederateHandle federateHandle = new IEEE1516eFederateHandle(1);
+
+      Map<RegionHandle, Map<DimensionHandle, RangeBounds>> regionModifications = new HashMap<>();
+      for (int i = 0; i <= regionCount; i++)
+      {
+        RegionHandle regionHandle = new IEEE1516eRegionHandle(federateHandle, i);
+
+        regionManager.createRegion(null, new CreateRegion(regionHandle, dimensionHandles));
+
+        regionModifications.put(regionHandle, randomRangeBounds());
+      }
+      regionManager.commitRegionModifications(null, new CommitRegionModifications(regionModifications));
+
+      updateRegionHandle = new IEEE1516eRegionHandle(federateHandle, 0);
+      updateRegion = regionManager.getRegions().get(updateRegionHandle);
+
+      for (int i = 1; i <= regionCount; i++)
+      {
+        subscribedRegions.add(regionManager.getRegions().get(new IEEE1516eRegionHandle(federateHandle, i)));
+      }
+    }
+
+    protected void execute()
+      throws Exception
+    {
+      // the update region follows its entity
+      //
+      regionManager.commitRegionModifications(null, new CommitRegionModifications(
+        Collections.singletonMap(updateRegionHandle, randomRangeBounds())));
+
+      regionManager.getRegionsLock().readLock().lock();
+      try
+      {
+        if (index)
+        {
+          Set<RegionHandle> intersectingRegionHandles =
+            regionManager.getIntersectingRegionHandles(updateRegionHandle, dimensionHandles);
+
+          sink += intersectingRegionHandles.size();
+        }
+        else
+        {
+          for (FederationExecutionRegion subscribedRegion : subscribedRegions)
+          {
+            if (subscribedRegion.intersects(updateRegion, dimensionHandles))
+            {
+              sink++;
+            }
+          }
+        }
+      }
+      finally
+      {
+        regionManager.getRegionsLock().readLock().unlock();
+      }
+    }
+
+    private Map<DimensionHandle, RangeBounds> randomRangeBounds()
+    {
+      Map<DimensionHandle, RangeBounds> rangeBounds = new HashMap<>();
+      for (DimensionHandle dimensionHandle : dimensionHandles)
+      {
+        long lower = (long) (random.nextDouble() * (upperBound - REGION_SIZE));
+        rangeBounds.put(dimensionHandle, new RangeBounds(lower, lower + REGION_SIZE));
+      }
+      return rangeBounds;
+    }
+  }
+}
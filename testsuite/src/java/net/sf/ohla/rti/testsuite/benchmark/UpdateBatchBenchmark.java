@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandleValueMap;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eFederateHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eObjectInstanceHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eTransportationTypeHandle;
+import net.sf.ohla.rti.messages.Message;
+import net.sf.ohla.rti.messages.MessageDecoder;
+import net.sf.ohla.rti.messages.MessageEncoder;
+import net.sf.ohla.rti.messages.UpdateAttributeValues;
+import net.sf.ohla.rti.messages.UpdateAttributeValuesBatch;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.handler.codec.embedder.DecoderEmbedder;
+import org.jboss.netty.handler.codec.embedder.EncoderEmbedder;
+
+import hla.rti1516e.AttributeHandleValueMap;
+import hla.rti1516e.FederateHandle;
+
+/**
+ * Measures how many frames of 5,000 small attribute updates per second can be encoded and decoded again, either as
+ * 5,000 {@code UpdateAttributeValues} messages or as a single {@code UpdateAttributeValuesBatch}. Each update carries 4
+ * attributes of 16 bytes.
+ */
+public class UpdateBatchBenchmark
+{
+  private static final int ATTRIBUTE_COUNT = 4;
+  private static final int ATTRIBUTE_VALUE_SIZE = 16;
+
+  private static final int UPDATES_PER_FRAME = 5000;
+
+  private final List<UpdateAttributeValues> updates = new ArrayList<>(UPDATES_PER_FRAME);
+
+  private final EncoderEmbedder<ChannelBuffer> encoder = new EncoderEmbedder<ChannelBuffer>(new MessageEncoder());
+  private final DecoderEmbedder<Message> decoder = new DecoderEmbedder<Message>(new MessageDecoder());
+
+  private long messagesDecoded;
+
+  public UpdateBatchBenchmark()
+  {
+    Random random = new Random(0L);
+
+    FederateHandle federateHandle = new IEEE1516eFederateHandle(1);
+    for (int i = 0; i < UPDATES_PER_FRAME; i++)
+    {
+      AttributeHandleValueMap attributeValues = new IEEE1516eAttributeHandleValueMap(ATTRIBUTE_COUNT);
+      for (int j = 0; j < ATTRIBUTE_COUNT; j++)
+      {
+        byte[] value = new byte[ATTRIBUTE_VALUE_SIZE];
+        random.nextBytes(value);
+
+        attributeValues.put(new IEEE1516eAttributeHandle(j + 1), value);
+      }
+
+      updates.add(new UpdateAttributeValues(
+        new IEEE1516eObjectInstanceHandle(federateHandle, i + 1L), attributeValues,
+        new IEEE1516eTransportationTypeHandle(1), new byte[0]));
+    }
+  }
+
+  public void run()
+    throws Exception
+  {
+    double separate = new UpdateFrame("separate, " + UPDATES_PER_FRAME + " updates per frame", false).runAndReport();
+    double batched = new UpdateFrame("batched, " + UPDATES_PER_FRAME + " updates per frame", true).runAndReport();
+
+    System.out.println(String.format("%-60s %15.2fx", "speedup", batched / separate));
+
+    // keep the decoded messages alive so the decoding cannot be optimized away
+    //
+    System.out.println("decoded " + messagesDecoded + " messages");
+  }
+
+  public static void main(String... args)
+    throws Exception
+  {
+    new UpdateBatchBenchmark().run();
+  }
+
+  private class UpdateFrame
+    extends Benchmark
+  {
+    private final boolean batched;
+
+    public UpdateFrame(String name, boolean batched)
+    {
+      super(name);
+
+      this.batched = batched;
+    }
+
+    protected void execute()
+    {
+      if (batched)
+      {
+        transfer(new UpdateAttributeValuesBatch(updates));
+      }
+      else
+      {
+        for (UpdateAttributeValues updateAttributeValues : updates)
+        {
+          transfer(updateAttributeValues);
+        }
+      }
+    }
+
+    private void transfer(Message message)
+    {
+      encoder.offer(message);
+      decoder.offer(encoder.poll());
+
+      if (decoder.poll() != null)
+      {
+        messagesDecoded++;
+      }
+    }
+  }
+}
@@ -0,0 +1,666 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.federation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.sf.ohla.rti.federation.FederateProxyOutboundQueue;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eTransportationTypeHandle;
+import net.sf.ohla.rti.messages.Message;
+import net.sf.ohla.rti.messages.MessageEncoder;
+import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValues;
+import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValuesBatch;
+import net.sf.ohla.rti.messages.proto.FederateMessageProtos;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+import net.sf.ohla.rti.proto.OHLAProtos;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.channel.AbstractChannel;
+import org.jboss.netty.channel.AbstractChannelSink;
+import org.jboss.netty.channel.ChannelConfig;
+import org.jboss.netty.channel.ChannelEvent;
+import org.jboss.netty.channel.ChannelFuture;
+import org.jboss.netty.channel.ChannelPipeline;
+import org.jboss.netty.channel.ChannelState;
+import org.jboss.netty.channel.ChannelStateEvent;
+import org.jboss.netty.channel.Channels;
+import org.jboss.netty.channel.DefaultChannelConfig;
+import org.jboss.netty.channel.MessageEvent;
+import org.slf4j.MarkerFactory;
+import org.testng.annotations.Test;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Drives a {@link FederateProxyOutboundQueue} through a channel that only becomes writable when told to.
+ */
+@Test
+public class FederateProxyOutboundQueueTestNG
+{
+  private static final int HIGH_WATERMARK = 4;
+  private static final int LOW_WATERMARK = 2;
+
+  private final MessageEncoder messageEncoder = new MessageEncoder();
+
+  private int sequence;
+
+  @Test
+  public void testWatermarks()
+    throws Exception
+  {
+    TestChannel channel = createChannel(
+      FederateProxyOutboundQueue.BestEffortPolicy.DROP, FederateProxyOutboundQueue.ReliablePolicy.SPILL);
+    FederateProxyOutboundQueue outboundQueue = channel.getOutboundQueue();
+
+    List<ReflectAttributeValues> written = new ArrayList<>();
+    for (int i = 0; i < HIGH_WATERMARK; i++)
+    {
+      written.add(write(channel, createReflection(i, OHLAProtos.OrderType.TIMESTAMP, false, 1)));
+    }
+
+    assert outboundQueue.getQueuedMessages() == HIGH_WATERMARK;
+    assert !outboundQueue.isOverloaded();
+
+    // the message that finds the queue at its high watermark overloads the federate
+    //
+    ChannelFuture dropped = channel.write(createReflection(0, OHLAProtos.OrderType.RECEIVE, true, 1));
+
+    assert outboundQueue.isOverloaded();
+    assert dropped.isSuccess();
+    assert outboundQueue.getDroppedMessages() == 1L;
+
+    // still overloaded above the low watermark
+    //
+    channel.allowWrites(HIGH_WATERMARK - LOW_WATERMARK - 1);
+
+    assert outboundQueue.getQueuedMessages() == LOW_WATERMARK + 1;
+    assert outboundQueue.isOverloaded();
+
+    channel.allowWrites(1);
+
+    assert outboundQueue.getQueuedMessages() == LOW_WATERMARK;
+    assert !outboundQueue.isOverloaded();
+
+    channel.allowWrites(Integer.MAX_VALUE);
+
+    assert outboundQueue.getQueuedMessages() == 0;
+    checkWritten(channel, written);
+  }
+
+  @Test
+  public void testDropBestEffort()
+    throws Exception
+  {
+    TestChannel channel = createChannel(
+      FederateProxyOutboundQueue.BestEffortPolicy.DROP, FederateProxyOutboundQueue.ReliablePolicy.SPILL);
+    FederateProxyOutboundQueue outboundQueue = channel.getOutboundQueue();
+
+    List<ReflectAttributeValues> written = new ArrayList<>();
+    written.add(write(channel, createReflection(0, OHLAProtos.OrderType.RECEIVE, true, 1, 2)));
+
+    // not conflated under the drop policy
+    //
+    written.add(write(channel, createReflection(0, OHLAProtos.OrderType.RECEIVE, true, 1, 2)));
+
+    for (int i = 2; i < HIGH_WATERMARK; i++)
+    {
+      written.add(write(channel, createReflection(i, OHLAProtos.OrderType.RECEIVE, true, 1)));
+    }
+
+    for (int i = 0; i < 3; i++)
+    {
+      assert channel.write(createReflection(i, OHLAProtos.OrderType.RECEIVE, true, 1)).isSuccess();
+    }
+
+    assert outboundQueue.getDroppedMessages() == 3L;
+    assert outboundQueue.getConflatedMessages() == 0L;
+
+    channel.allowWrites(Integer.MAX_VALUE);
+
+    checkWritten(channel, written);
+  }
+
+  @Test
+  public void testConflateBestEffort()
+    throws Exception
+  {
+    TestChannel channel = createChannel(
+      FederateProxyOutboundQueue.BestEffortPolicy.CONFLATE, FederateProxyOutboundQueue.ReliablePolicy.SPILL);
+    FederateProxyOutboundQueue outboundQueue = channel.getOutboundQueue();
+
+    ChannelFuture replaced = channel.write(createReflection(0, OHLAProtos.OrderType.RECEIVE, true, 1, 2));
+    ReflectAttributeValues other = write(channel, createReflection(1, OHLAProtos.OrderType.RECEIVE, true, 1));
+
+    // takes the place of the first reflection
+    //
+    ReflectAttributeValues superseding = write(channel, createReflection(0, OHLAProtos.OrderType.RECEIVE, true, 2, 1));
+
+    assert replaced.isSuccess();
+    assert outboundQueue.getConflatedMessages() == 1L;
+    assert outboundQueue.getQueuedMessages() == 2;
+
+    // carries fewer attributes so it cannot replace the queued reflection
+    //
+    ReflectAttributeValues partial = write(channel, createReflection(0, OHLAProtos.OrderType.RECEIVE, true, 1));
+
+    // time stamp ordered reflections are never conflated
+    //
+    ReflectAttributeValues timeStampOrdered =
+      write(channel, createReflection(0, OHLAProtos.OrderType.TIMESTAMP, true, 1, 2));
+
+    assert outboundQueue.getConflatedMessages() == 1L;
+    assert outboundQueue.getQueuedMessages() == 4;
+
+    channel.allowWrites(Integer.MAX_VALUE);
+
+    checkWritten(channel, Arrays.asList(superseding, other, partial, timeStampOrdered));
+  }
+
+  @Test
+  public void testTimeStampOrderedBestEffortSpilled()
+    throws Exception
+  {
+    TestChannel channel = createChannel(
+      FederateProxyOutboundQueue.BestEffortPolicy.CONFLATE, FederateProxyOutboundQueue.ReliablePolicy.SPILL);
+    FederateProxyOutboundQueue outboundQueue = channel.getOutboundQueue();
+
+    // time stamp ordered messages are reliable whatever their transportation, a constrained federate must receive
+    // every one of them before the grants past them
+    //
+    List<ReflectAttributeValues> written = new ArrayList<>();
+    for (int i = 0; i < HIGH_WATERMARK + 3; i++)
+    {
+      written.add(write(channel, createReflection(0, OHLAProtos.OrderType.TIMESTAMP, true, 1, 2)));
+    }
+
+    assert outboundQueue.isOverloaded();
+    assert outboundQueue.getQueuedMessages() == HIGH_WATERMARK;
+    assert outboundQueue.getSpilledMessages() == 3L;
+    assert outboundQueue.getDroppedMessages() == 0L;
+    assert outboundQueue.getConflatedMessages() == 0L;
+
+    channel.allowWrites(Integer.MAX_VALUE);
+
+    assert !outboundQueue.isOverloaded();
+    checkWritten(channel, written);
+  }
+
+  @Test
+  public void testTimeStampOrderedBestEffortDisconnects()
+    throws Exception
+  {
+    TestChannel channel = createChannel(
+      FederateProxyOutboundQueue.BestEffortPolicy.DROP, FederateProxyOutboundQueue.ReliablePolicy.DISCONNECT);
+    FederateProxyOutboundQueue outboundQueue = channel.getOutboundQueue();
+
+    for (int i = 0; i < HIGH_WATERMARK; i++)
+    {
+      channel.write(createReflection(i, OHLAProtos.OrderType.TIMESTAMP, true, 1));
+    }
+
+    assert channel.isOpen();
+
+    // disconnects rather than silently dropping it
+    //
+    ChannelFuture future = channel.write(createReflection(0, OHLAProtos.OrderType.TIMESTAMP, true, 1));
+
+    assert future.isDone() && future.getCause() instanceof ClosedChannelException : future.getCause();
+    assert !channel.isOpen();
+    assert !channel.isClosedHoldingQueueMonitor();
+    assert outboundQueue.getDroppedMessages() == 0L;
+  }
+
+  @Test
+  public void testSpillReplaysInOrder()
+    throws Exception
+  {
+    TestChannel channel = createChannel(
+      FederateProxyOutboundQueue.BestEffortPolicy.DROP, FederateProxyOutboundQueue.ReliablePolicy.SPILL);
+    FederateProxyOutboundQueue outboundQueue = channel.getOutboundQueue();
+
+    List<ReflectAttributeValues> written = new ArrayList<>();
+    for (int i = 0; i < HIGH_WATERMARK + 3; i++)
+    {
+      written.add(write(channel, createReflection(i, OHLAProtos.OrderType.RECEIVE, false, 1)));
+    }
+
+    assert outboundQueue.isOverloaded();
+    assert outboundQueue.getQueuedMessages() == HIGH_WATERMARK;
+    assert outboundQueue.getSpilledMessages() == 3L;
+
+    // once spilling, reliable messages keep being spilled until the spill file is written
+    //
+    channel.allowWrites(HIGH_WATERMARK - LOW_WATERMARK);
+
+    assert outboundQueue.getQueuedMessages() == LOW_WATERMARK;
+    assert outboundQueue.isOverloaded();
+
+    written.add(write(channel, createReflection(0, OHLAProtos.OrderType.RECEIVE, false, 2)));
+
+    assert outboundQueue.getSpilledMessages() == 4L;
+
+    channel.allowWrites(Integer.MAX_VALUE);
+
+    assert !outboundQueue.isOverloaded();
+
+    // written straight through after the spill file
+    //
+    written.add(write(channel, createReflection(1, OHLAProtos.OrderType.RECEIVE, false, 2)));
+
+    assert outboundQueue.getSpilledMessages() == 4L;
+    checkWritten(channel, written);
+  }
+
+  @Test
+  public void testNoConflationWhileSpilling()
+    throws Exception
+  {
+    TestChannel channel = createChannel(
+      FederateProxyOutboundQueue.BestEffortPolicy.DROP, FederateProxyOutboundQueue.ReliablePolicy.SPILL, true);
+    FederateProxyOutboundQueue outboundQueue = channel.getOutboundQueue();
+
+    List<ReflectAttributeValues> written = new ArrayList<>();
+    for (int i = 0; i < HIGH_WATERMARK; i++)
+    {
+      written.add(write(channel, createReflection(i, OHLAProtos.OrderType.RECEIVE, false, 1)));
+    }
+
+    // cannot be conflated so it is spilled
+    //
+    written.add(write(channel, createReflection(0, OHLAProtos.OrderType.TIMESTAMP, false, 1)));
+
+    assert outboundQueue.getSpilledMessages() == 1L;
+
+    // merging into the queued reflection would write it ahead of the spilled one
+    //
+    written.add(write(channel, createReflection(0, OHLAProtos.OrderType.RECEIVE, false, 1)));
+
+    assert outboundQueue.getConflatedMessages() == 0L;
+    assert outboundQueue.getSpilledMessages() == 2L;
+
+    channel.allowWrites(Integer.MAX_VALUE);
+
+    checkWritten(channel, written);
+  }
+
+  @Test
+  public void testNoBestEffortConflationWhileSpilling()
+    throws Exception
+  {
+    TestChannel channel = createChannel(
+      FederateProxyOutboundQueue.BestEffortPolicy.CONFLATE, FederateProxyOutboundQueue.ReliablePolicy.SPILL);
+    FederateProxyOutboundQueue outboundQueue = channel.getOutboundQueue();
+
+    List<ReflectAttributeValues> written = new ArrayList<>();
+    written.add(write(channel, createReflection(0, OHLAProtos.OrderType.RECEIVE, true, 1, 2)));
+    for (int i = 1; i < HIGH_WATERMARK; i++)
+    {
+      written.add(write(channel, createReflection(i, OHLAProtos.OrderType.RECEIVE, false, 1)));
+    }
+
+    written.add(write(channel, createReflection(0, OHLAProtos.OrderType.RECEIVE, false, 1)));
+
+    assert outboundQueue.getSpilledMessages() == 1L;
+
+    // taking the place of the queued reflection would write it ahead of the spilled one
+    //
+    assert channel.write(createReflection(0, OHLAProtos.OrderType.RECEIVE, true, 1, 2)).isSuccess();
+
+    assert outboundQueue.getConflatedMessages() == 0L;
+    assert outboundQueue.getDroppedMessages() == 1L;
+
+    channel.allowWrites(Integer.MAX_VALUE);
+
+    checkWritten(channel, written);
+  }
+
+  @Test
+  public void testNoConflationPastQueuedBatch()
+    throws Exception
+  {
+    TestChannel channel = createChannel(
+      FederateProxyOutboundQueue.BestEffortPolicy.DROP, FederateProxyOutboundQueue.ReliablePolicy.SPILL, true);
+    FederateProxyOutboundQueue outboundQueue = channel.getOutboundQueue();
+
+    List<Message> written = new ArrayList<>();
+    written.add(write(channel, createReflection(0, OHLAProtos.OrderType.RECEIVE, false, 1)));
+    written.add(write(channel, createReflection(2, OHLAProtos.OrderType.RECEIVE, false, 1)));
+
+    ReflectAttributeValuesBatch reflectAttributeValuesBatch = new ReflectAttributeValuesBatch();
+    reflectAttributeValuesBatch.add(createReflection(0, OHLAProtos.OrderType.RECEIVE, false, 1));
+    reflectAttributeValuesBatch.add(createReflection(1, OHLAProtos.OrderType.RECEIVE, false, 1));
+
+    ChannelFuture future = channel.write(reflectAttributeValuesBatch);
+    assert !future.isDone() : future.getCause();
+    written.add(reflectAttributeValuesBatch);
+
+    // merging into the first reflection would write it ahead of the batch
+    //
+    written.add(write(channel, createReflection(0, OHLAProtos.OrderType.RECEIVE, false, 1)));
+
+    // the batch does not carry this object instance
+    //
+    channel.write(createReflection(2, OHLAProtos.OrderType.RECEIVE, false, 1));
+
+    assert outboundQueue.getConflatedMessages() == 1L;
+    assert outboundQueue.getQueuedMessages() == 4;
+
+    channel.allowWrites(Integer.MAX_VALUE);
+
+    checkWritten(channel, written);
+  }
+
+  @Test
+  public void testNoConflationPastQueuedTimeStampOrderedReflection()
+    throws Exception
+  {
+    TestChannel channel = createChannel(
+      FederateProxyOutboundQueue.BestEffortPolicy.DROP, FederateProxyOutboundQueue.ReliablePolicy.SPILL, true);
+    FederateProxyOutboundQueue outboundQueue = channel.getOutboundQueue();
+
+    List<ReflectAttributeValues> written = new ArrayList<>();
+    written.add(write(channel, createReflection(0, OHLAProtos.OrderType.RECEIVE, false, 1)));
+    written.add(write(channel, createReflection(0, OHLAProtos.OrderType.TIMESTAMP, false, 1)));
+
+    // merging into the first reflection would write it ahead of the time stamp ordered one
+    //
+    written.add(write(channel, createReflection(0, OHLAProtos.OrderType.RECEIVE, false, 1)));
+
+    assert outboundQueue.getConflatedMessages() == 0L;
+    assert outboundQueue.getQueuedMessages() == 3;
+
+    channel.allowWrites(Integer.MAX_VALUE);
+
+    checkWritten(channel, written);
+  }
+
+  @Test
+  public void testDisconnect()
+    throws Exception
+  {
+    TestChannel channel = createChannel(
+      FederateProxyOutboundQueue.BestEffortPolicy.DROP, FederateProxyOutboundQueue.ReliablePolicy.DISCONNECT);
+    FederateProxyOutboundQueue outboundQueue = channel.getOutboundQueue();
+
+    List<ChannelFuture> futures = new ArrayList<>();
+    for (int i = 0; i < HIGH_WATERMARK; i++)
+    {
+      futures.add(channel.write(createReflection(i, OHLAProtos.OrderType.RECEIVE, false, 1)));
+    }
+
+    assert channel.isOpen();
+
+    // a best effort message is dropped without disconnecting
+    //
+    assert channel.write(createReflection(0, OHLAProtos.OrderType.RECEIVE, true, 1)).isSuccess();
+    assert channel.isOpen();
+
+    futures.add(channel.write(createReflection(0, OHLAProtos.OrderType.RECEIVE, false, 1)));
+
+    assert !channel.isOpen();
+    assert !channel.isClosedHoldingQueueMonitor();
+    assert outboundQueue.getQueuedMessages() == 0;
+    assert outboundQueue.getSpilledMessages() == 0L;
+
+    futures.add(channel.write(createReflection(0, OHLAProtos.OrderType.RECEIVE, false, 1)));
+
+    for (ChannelFuture future : futures)
+    {
+      assert future.isDone() && future.getCause() instanceof ClosedChannelException : future.getCause();
+    }
+    assert channel.getWritten().length == 0;
+  }
+
+  @Test
+  public void testEmbeddedDisconnect()
+    throws Exception
+  {
+    // without an encoder in the pipeline nothing can be spilled, whatever the policy
+    //
+    ChannelPipeline pipeline = Channels.pipeline();
+    pipeline.addLast(FederateProxyOutboundQueue.NAME, new FederateProxyOutboundQueue(
+      MarkerFactory.getMarker(FederateProxyOutboundQueueTestNG.class.getSimpleName()), HIGH_WATERMARK, LOW_WATERMARK,
+      FederateProxyOutboundQueue.BestEffortPolicy.DROP, FederateProxyOutboundQueue.ReliablePolicy.SPILL, false));
+
+    TestChannel channel = new TestChannel(pipeline, new TestChannelSink());
+    FederateProxyOutboundQueue outboundQueue = channel.getOutboundQueue();
+
+    List<ChannelFuture> futures = new ArrayList<>();
+    for (int i = 0; i < HIGH_WATERMARK; i++)
+    {
+      futures.add(channel.write(createReflection(i, OHLAProtos.OrderType.RECEIVE, false, 1)));
+    }
+
+    assert channel.isOpen();
+
+    futures.add(channel.write(createReflection(0, OHLAProtos.OrderType.RECEIVE, false, 1)));
+
+    assert !channel.isOpen();
+    assert !channel.isClosedHoldingQueueMonitor();
+    assert outboundQueue.getQueuedMessages() == 0;
+    assert outboundQueue.getSpilledMessages() == 0L;
+
+    for (ChannelFuture future : futures)
+    {
+      assert future.isDone() && future.getCause() instanceof ClosedChannelException : future.getCause();
+    }
+  }
+
+  private TestChannel createChannel(
+    FederateProxyOutboundQueue.BestEffortPolicy bestEffortPolicy,
+    FederateProxyOutboundQueue.ReliablePolicy reliablePolicy)
+  {
+    return createChannel(bestEffortPolicy, reliablePolicy, false);
+  }
+
+  private TestChannel createChannel(
+    FederateProxyOutboundQueue.BestEffortPolicy bestEffortPolicy,
+    FederateProxyOutboundQueue.ReliablePolicy reliablePolicy, boolean conflateReflections)
+  {
+    ChannelPipeline pipeline = Channels.pipeline();
+    pipeline.addLast(MessageEncoder.NAME, new MessageEncoder());
+    pipeline.addLast(FederateProxyOutboundQueue.NAME, new FederateProxyOutboundQueue(
+      MarkerFactory.getMarker(FederateProxyOutboundQueueTestNG.class.getSimpleName()), HIGH_WATERMARK, LOW_WATERMARK,
+      bestEffortPolicy, reliablePolicy, conflateReflections));
+
+    return new TestChannel(pipeline, new TestChannelSink());
+  }
+
+  private ReflectAttributeValues createReflection(
+    long objectInstanceHandle, OHLAProtos.OrderType receivedOrderType, boolean bestEffort, int... attributeHandles)
+  {
+    FederateMessageProtos.ReflectAttributeValues.Builder builder =
+      FederateMessageProtos.ReflectAttributeValues.newBuilder();
+    builder.setObjectInstanceHandle(
+      OHLAProtos.ObjectInstanceHandle.newBuilder().setFederateHandle(1).setObjectInstanceHandle(objectInstanceHandle));
+    for (int attributeHandle : attributeHandles)
+    {
+      // every value is distinct so a replaced value shows in the written bytes
+      //
+      builder.addAttributeValues(MessageProtos.AttributeValue.newBuilder().setAttributeHandle(
+        attributeHandle).setValue(ByteString.copyFrom(new byte[] { (byte) ++sequence })));
+    }
+    builder.setSentOrderType(receivedOrderType);
+    builder.setReceivedOrderType(receivedOrderType);
+    builder.setTransportationTypeHandle(bestEffort ? IEEE1516eTransportationTypeHandle.HLA_BEST_EFFORT.handle :
+                                          IEEE1516eTransportationTypeHandle.HLA_RELIABLE.handle);
+    builder.setProducingFederateHandle(1);
+    return new ReflectAttributeValues(builder.build());
+  }
+
+  private ReflectAttributeValues write(TestChannel channel, ReflectAttributeValues reflectAttributeValues)
+  {
+    ChannelFuture future = channel.write(reflectAttributeValues);
+    assert !future.isDone() || future.isSuccess() : future.getCause();
+    return reflectAttributeValues;
+  }
+
+  private void checkWritten(TestChannel channel, List<? extends Message> expected)
+    throws IOException
+  {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (Message message : expected)
+    {
+      ChannelBuffer buffer = messageEncoder.encode(message);
+      buffer.getBytes(buffer.readerIndex(), out, buffer.readableBytes());
+    }
+
+    assert Arrays.equals(out.toByteArray(), channel.getWritten());
+  }
+
+  private static class TestChannel
+    extends AbstractChannel
+  {
+    private final ChannelConfig config = new DefaultChannelConfig();
+
+    private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+    /**
+     * The number of writes the channel takes before it stops being writable.
+     */
+    private int writes;
+
+    /**
+     * Whether the close reached the sink while the queue's monitor was held, the I/O thread takes the monitors of the
+     * handlers below the queue before the queue's when it completes writes.
+     */
+    private boolean closedHoldingQueueMonitor;
+
+    private TestChannel(ChannelPipeline pipeline, TestChannelSink sink)
+    {
+      super(null, null, pipeline, sink);
+    }
+
+    public FederateProxyOutboundQueue getOutboundQueue()
+    {
+      return (FederateProxyOutboundQueue) getPipeline().get(FederateProxyOutboundQueue.NAME);
+    }
+
+    public synchronized byte[] getWritten()
+    {
+      return written.toByteArray();
+    }
+
+    public synchronized boolean isClosedHoldingQueueMonitor()
+    {
+      return closedHoldingQueueMonitor;
+    }
+
+    /**
+     * Lets the channel take the specified number of writes and tells the queue it is writable.
+     */
+    public void allowWrites(int writes)
+    {
+      synchronized (this)
+      {
+        this.writes = writes;
+      }
+
+      Channels.fireChannelInterestChanged(this);
+    }
+
+    @Override
+    public synchronized boolean isWritable()
+    {
+      return writes > 0;
+    }
+
+    public ChannelConfig getConfig()
+    {
+      return config;
+    }
+
+    public boolean isBound()
+    {
+      return isOpen();
+    }
+
+    public boolean isConnected()
+    {
+      return isOpen();
+    }
+
+    public SocketAddress getLocalAddress()
+    {
+      return null;
+    }
+
+    public SocketAddress getRemoteAddress()
+    {
+      return null;
+    }
+
+    private void written(ChannelBuffer buffer)
+      throws IOException
+    {
+      synchronized (this)
+      {
+        assert writes > 0;
+
+        writes--;
+        buffer.getBytes(buffer.readerIndex(), written, buffer.readableBytes());
+      }
+    }
+
+    private void closed()
+    {
+      synchronized (this)
+      {
+        closedHoldingQueueMonitor |= Thread.holdsLock(getOutboundQueue());
+      }
+
+      if (setClosed())
+      {
+        Channels.fireChannelClosed(this);
+      }
+    }
+  }
+
+  private static class TestChannelSink
+    extends AbstractChannelSink
+  {
+    public void eventSunk(ChannelPipeline pipeline, ChannelEvent event)
+      throws Exception
+    {
+      TestChannel channel = (TestChannel) event.getChannel();
+      if (event instanceof MessageEvent)
+      {
+        channel.written((ChannelBuffer) ((MessageEvent) event).getMessage());
+
+        event.getFuture().setSuccess();
+      }
+      else if (event instanceof ChannelStateEvent &&
+               ((ChannelStateEvent) event).getState() == ChannelState.OPEN &&
+               Boolean.FALSE.equals(((ChannelStateEvent) event).getValue()))
+      {
+        event.getFuture().setSuccess();
+
+        channel.closed();
+      }
+      else
+      {
+        event.getFuture().setSuccess();
+      }
+    }
+  }
+}
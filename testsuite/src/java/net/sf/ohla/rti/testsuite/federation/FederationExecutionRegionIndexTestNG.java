@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.federation;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import net.sf.ohla.rti.fdd.FDD;
+import net.sf.ohla.rti.federation.FederationExecution;
+import net.sf.ohla.rti.federation.FederationExecutionRegion;
+import net.sf.ohla.rti.federation.FederationExecutionRegionIndex;
+import net.sf.ohla.rti.federation.FederationExecutionRegionManager;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eDimensionHandleSetFactory;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eFDDParser;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eFederateHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eRegionHandle;
+import net.sf.ohla.rti.hla.rti1516e.time.IEEE1516eHLAinteger64TimeFactory;
+import net.sf.ohla.rti.messages.CommitRegionModifications;
+import net.sf.ohla.rti.messages.CreateRegion;
+import net.sf.ohla.rti.messages.DeleteRegion;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import hla.rti1516e.DimensionHandle;
+import hla.rti1516e.DimensionHandleSet;
+import hla.rti1516e.FederateHandle;
+import hla.rti1516e.RangeBounds;
+import hla.rti1516e.RegionHandle;
+
+/**
+ * Checks that the regions the {@link FederationExecutionRegionIndex} finds to intersect a region are exactly those
+ * {@link FederationExecutionRegion#intersects(FederationExecutionRegion, Set)} is {@code true} for, across random
+ * regions that are created, moved and deleted.
+ */
+@Test
+public class FederationExecutionRegionIndexTestNG
+{
+  /**
+   * The number of buckets the index divides the range of each dimension into.
+   */
+  private static final int BUCKETS = 1024;
+
+  private static final int REGION_COUNT = 200;
+
+  private static final int ROUNDS = 20;
+
+  private final FederateHandle federateHandle = new IEEE1516eFederateHandle(1);
+
+  private FDD fdd;
+
+  private DimensionHandle dimension1;
+  private DimensionHandle dimension3;
+  private DimensionHandle dimension4;
+
+  private final List<Set<DimensionHandle>> comparedDimensionHandles = new ArrayList<>();
+
+  private FederationExecutionRegionManager regionManager;
+
+  private final List<RegionHandle> regionHandles = new ArrayList<>();
+
+  private Random random;
+
+  private int nextRegionHandle;
+
+  @BeforeMethod
+  public void setup()
+    throws Exception
+  {
+    fdd = IEEE1516eFDDParser.parseFDD(
+      Thread.currentThread().getContextClassLoader().getResource("TestObjectModel-ieee-1516e.xml"));
+
+    dimension1 = fdd.getDimensionSafely("Dimension1").getDimensionHandle();
+    dimension3 = fdd.getDimensionSafely("Dimension3").getDimensionHandle();
+    dimension4 = fdd.getDimensionSafely("Dimension4").getDimensionHandle();
+
+    comparedDimensionHandles.clear();
+    comparedDimensionHandles.add(Collections.singleton(dimension1));
+    comparedDimensionHandles.add(Collections.singleton(dimension3));
+    comparedDimensionHandles.add(Collections.singleton(dimension4));
+    comparedDimensionHandles.add(new HashSet<>(Arrays.asList(dimension3, dimension4)));
+    comparedDimensionHandles.add(new HashSet<>(Arrays.asList(dimension1, dimension3, dimension4)));
+
+    FederationExecution federationExecution = new FederationExecution(
+      FederationExecutionRegionIndexTestNG.class.getSimpleName(), fdd, new IEEE1516eHLAinteger64TimeFactory(),
+      Paths.get(System.getProperty("java.io.tmpdir")), 1, null);
+    regionManager = federationExecution.getRegionManager();
+
+    regionHandles.clear();
+    random = new Random(0L);
+    nextRegionHandle = 0;
+  }
+
+  @Test
+  public void testCreatedRegions()
+    throws Exception
+  {
+    createRegions(REGION_COUNT);
+
+    checkIntersectingRegionHandles();
+  }
+
+  @Test
+  public void testMovedRegions()
+    throws Exception
+  {
+    createRegions(REGION_COUNT);
+
+    for (int round = 0; round < ROUNDS; round++)
+    {
+      // moves some regions in every dimension and some in only one of theirs
+      //
+      Map<RegionHandle, Map<DimensionHandle, RangeBounds>> regionModifications = new HashMap<>();
+      for (RegionHandle regionHandle : regionHandles)
+      {
+        if (random.nextInt(4) == 0)
+        {
+          Map<DimensionHandle, RangeBounds> rangeBounds =
+            randomRangeBounds(regionManager.getRegions().get(regionHandle).getDimensionHandles());
+          if (random.nextBoolean())
+          {
+            rangeBounds.keySet().retainAll(Collections.singleton(rangeBounds.keySet().iterator().next()));
+          }
+          regionModifications.put(regionHandle, rangeBounds);
+        }
+      }
+      regionManager.commitRegionModifications(null, new CommitRegionModifications(regionModifications));
+
+      checkIntersectingRegionHandles();
+    }
+  }
+
+  @Test
+  public void testDeletedRegions()
+    throws Exception
+  {
+    createRegions(REGION_COUNT);
+
+    List<RegionHandle> deletedRegionHandles = new ArrayList<>();
+    for (int round = 0; round < ROUNDS; round++)
+    {
+      for (int i = 0; i < REGION_COUNT / ROUNDS / 2; i++)
+      {
+        RegionHandle regionHandle = regionHandles.remove(random.nextInt(regionHandles.size()));
+        regionManager.deleteRegion(null, new DeleteRegion(regionHandle));
+        deletedRegionHandles.add(regionHandle);
+      }
+
+      // regions created after a delete are indexed alongside the regions that remain
+      //
+      createRegions(REGION_COUNT / ROUNDS / 4);
+
+      checkIntersectingRegionHandles();
+
+      regionManager.getRegionsLock().readLock().lock();
+      try
+      {
+        for (RegionHandle deletedRegionHandle : deletedRegionHandles)
+        {
+          for (Set<DimensionHandle> dimensionHandles : comparedDimensionHandles)
+          {
+            assert regionManager.getIntersectingRegionHandles(deletedRegionHandle, dimensionHandles).isEmpty();
+          }
+        }
+      }
+      finally
+      {
+        regionManager.getRegionsLock().readLock().unlock();
+      }
+    }
+  }
+
+  @Test
+  public void testIntersectsOnly()
+    throws Exception
+  {
+    createRegions(REGION_COUNT);
+
+    regionManager.getRegionsLock().readLock().lock();
+    try
+    {
+      for (int round = 0; round < ROUNDS * 10; round++)
+      {
+        // more pairs than are compared one by one, so the index is used
+        //
+        Set<RegionHandle> subscribedRegionHandles = randomRegionHandles(5);
+        Set<RegionHandle> updateRegionHandles = randomRegionHandles(5);
+
+        for (Set<DimensionHandle> dimensionHandles : comparedDimensionHandles)
+        {
+          boolean intersects = false;
+          for (RegionHandle subscribedRegionHandle : subscribedRegionHandles)
+          {
+            for (RegionHandle updateRegionHandle : updateRegionHandles)
+            {
+              intersects |= regionManager.getRegions().get(subscribedRegionHandle).intersects(
+                regionManager.getRegions().get(updateRegionHandle), dimensionHandles);
+            }
+          }
+
+          assert intersects ==
+                 regionManager.intersectsOnly(subscribedRegionHandles, updateRegionHandles, dimensionHandles);
+        }
+      }
+    }
+    finally
+    {
+      regionManager.getRegionsLock().readLock().unlock();
+    }
+  }
+
+  private void createRegions(int count)
+  {
+    Map<RegionHandle, Map<DimensionHandle, RangeBounds>> regionModifications = new HashMap<>();
+    for (int i = 0; i < count; i++)
+    {
+      RegionHandle regionHandle = new IEEE1516eRegionHandle(federateHandle, nextRegionHandle++);
+
+      // most regions span dimensions 3 and 4, the rest only one of them or dimension 1
+      //
+      DimensionHandleSet dimensionHandles = IEEE1516eDimensionHandleSetFactory.INSTANCE.create();
+      switch (random.nextInt(4))
+      {
+        case 0:
+          dimensionHandles.add(dimension3);
+          break;
+        case 1:
+          dimensionHandles.add(dimension1);
+          dimensionHandles.add(dimension4);
+          break;
+        default:
+          dimensionHandles.add(dimension3);
+          dimensionHandles.add(dimension4);
+      }
+
+      regionManager.createRegion(null, new CreateRegion(regionHandle, dimensionHandles));
+      regionHandles.add(regionHandle);
+
+      // some regions keep the default range bounds, the whole dimension
+      //
+      if (random.nextInt(10) != 0)
+      {
+        regionModifications.put(regionHandle, randomRangeBounds(dimensionHandles));
+      }
+    }
+    regionManager.commitRegionModifications(null, new CommitRegionModifications(regionModifications));
+  }
+
+  private Map<DimensionHandle, RangeBounds> randomRangeBounds(Set<DimensionHandle> dimensionHandles)
+  {
+    Map<DimensionHandle, RangeBounds> rangeBounds = new HashMap<>();
+    for (DimensionHandle dimensionHandle : dimensionHandles)
+    {
+      rangeBounds.put(dimensionHandle, randomRangeBounds(fdd.getDimensionSafely(dimensionHandle).getUpperBound()));
+    }
+    return rangeBounds;
+  }
+
+  private RangeBounds randomRangeBounds(long upperBound)
+  {
+    long bucketWidth = Math.max(1L, (upperBound + BUCKETS - 1) / BUCKETS);
+
+    RangeBounds rangeBounds;
+    switch (random.nextInt(5))
+    {
+      case 0:
+      {
+        // zero width, on a bucket edge half the time
+        //
+        long bound = random.nextBoolean() ?
+          randomBound(upperBound) : Math.min(upperBound, random.nextInt(BUCKETS) * bucketWidth);
+        rangeBounds = new RangeBounds(bound, bound);
+        break;
+      }
+      case 1:
+      {
+        // both bounds on a bucket edge, or one either side of it
+        //
+        long lower = Math.min(upperBound, random.nextInt(BUCKETS) * bucketWidth) + random.nextInt(3) - 1;
+        long upper = lower + (1 + random.nextInt(4)) * bucketWidth + random.nextInt(3) - 1;
+        rangeBounds = new RangeBounds(Math.max(0L, lower), Math.min(upperBound, upper));
+        break;
+      }
+      case 2:
+      {
+        // wider than the most buckets a region is indexed in
+        //
+        long lower = randomBound(upperBound / 2);
+        long upper = Math.min(upperBound, lower + (16 + random.nextInt(BUCKETS)) * bucketWidth);
+        rangeBounds = new RangeBounds(lower, upper);
+        break;
+      }
+      default:
+      {
+        // a small region somewhere in the dimension
+        //
+        long lower = randomBound(upperBound);
+        long upper = Math.min(upperBound, lower + 1 + randomBound(Math.max(1L, upperBound / 50)));
+        rangeBounds = new RangeBounds(lower, upper);
+      }
+    }
+    return rangeBounds;
+  }
+
+  private long randomBound(long upperBound)
+  {
+    return (long) (random.nextDouble() * upperBound);
+  }
+
+  private Set<RegionHandle> randomRegionHandles(int count)
+  {
+    Set<RegionHandle> regionHandles = new HashSet<>();
+    while (regionHandles.size() < count)
+    {
+      regionHandles.add(this.regionHandles.get(random.nextInt(this.regionHandles.size())));
+    }
+    return regionHandles;
+  }
+
+  private void checkIntersectingRegionHandles()
+  {
+    regionManager.getRegionsLock().readLock().lock();
+    try
+    {
+      for (Set<DimensionHandle> dimensionHandles : comparedDimensionHandles)
+      {
+        for (RegionHandle regionHandle : regionHandles)
+        {
+          FederationExecutionRegion region = regionManager.getRegions().get(regionHandle);
+
+          Set<RegionHandle> intersectingRegionHandles = new HashSet<>();
+          for (FederationExecutionRegion otherRegion : regionManager.getRegions().values())
+          {
+            if (region.intersects(otherRegion, dimensionHandles))
+            {
+              intersectingRegionHandles.add(otherRegion.getRegionHandle());
+            }
+          }
+
+          Set<RegionHandle> indexedIntersectingRegionHandles =
+            regionManager.getIntersectingRegionHandles(regionHandle, dimensionHandles);
+          assert intersectingRegionHandles.equals(indexedIntersectingRegionHandles) :
+            String.format("%s in %s: expected %s, was %s", regionHandle, dimensionHandles, intersectingRegionHandles,
+                          indexedIntersectingRegionHandles);
+        }
+      }
+    }
+    finally
+    {
+      regionManager.getRegionsLock().readLock().unlock();
+    }
+  }
+}
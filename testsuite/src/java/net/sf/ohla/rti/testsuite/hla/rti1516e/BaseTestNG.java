@@ -118,13 +118,27 @@ public abstract class BaseTestNG<FA extends FederateAmbassador>
   protected void connect(CallbackModel callbackModel)
     throws ConnectionFailed, AlreadyConnected, UnsupportedCallbackModel, InvalidLocalSettingsDesignator,
            RTIinternalError, CallNotAllowedFromWithinCallback
+  {
+    connect(callbackModel, null);
+  }
+
+  protected void connect(CallbackModel callbackModel, String localSettingsDesignator)
+    throws ConnectionFailed, AlreadyConnected, UnsupportedCallbackModel, InvalidLocalSettingsDesignator,
+           RTIinternalError, CallNotAllowedFromWithinCallback
   {
     for (RTIambassador rtiAmbassador : rtiAmbassadors)
     {
       FA federateAmbassador = createFederateAmbassador(rtiAmbassador);
       federateAmbassadors.add(federateAmbassador);
 
-      rtiAmbassador.connect(federateAmbassador, callbackModel);
+      if (localSettingsDesignator == null)
+      {
+        rtiAmbassador.connect(federateAmbassador, callbackModel);
+      }
+      else
+      {
+        rtiAmbassador.connect(federateAmbassador, callbackModel, localSettingsDesignator);
+      }
     }
   }
 
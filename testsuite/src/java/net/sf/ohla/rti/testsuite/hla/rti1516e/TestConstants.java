@@ -21,6 +21,7 @@ public interface TestConstants
   static final String LOCAL_SETTINGS_DESIGNATOR = "LocalSettingsDesignator.properties";
   static final String CONNECTION_FAILED_LOCAL_SETTINGS_DESIGNATOR =
     "ConnectionFailedLocalSettingsDesignator.properties";
+  static final String DATAGRAM_LOCAL_SETTINGS_DESIGNATOR = "DatagramLocalSettingsDesignator.properties";
 
   static final String FDD = "TestObjectModel-ieee-1516e.xml";
   static final String BAD_FDD = FDD + ".bad";
@@ -17,6 +17,7 @@
 package net.sf.ohla.rti.testsuite.hla.rti1516e.datadistribution;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -41,11 +42,14 @@ import hla.rti1516e.ObjectClassHandle;
 import hla.rti1516e.ObjectInstanceHandle;
 import hla.rti1516e.OrderType;
 import hla.rti1516e.RTIambassador;
+import hla.rti1516e.RangeBounds;
 import hla.rti1516e.RegionHandle;
 import hla.rti1516e.RegionHandleSet;
 import hla.rti1516e.ResignAction;
 import hla.rti1516e.TransportationTypeHandle;
 import hla.rti1516e.exceptions.FederateInternalError;
+import hla.rti1516e.exceptions.InvalidRegion;
+import hla.rti1516e.exceptions.RTIexception;
 
 @Test
 public class ObjectRegionTestNG
@@ -70,6 +74,9 @@ public class ObjectRegionTestNG
 
   private AttributeHandleValueMap objectAttributeValues;
 
+  private TransportationTypeHandle reliableTransportationTypeHandle;
+  private TransportationTypeHandle bestEffortTransportationTypeHandle;
+
   public ObjectRegionTestNG()
   {
     super(3, FEDERATION_NAME);
@@ -128,6 +135,9 @@ public class ObjectRegionTestNG
     objectAttributeValues.put(attributeHandle2, ATTRIBUTE2_VALUE.getBytes());
     objectAttributeValues.put(attributeHandle3, ATTRIBUTE3_VALUE.getBytes());
 
+    reliableTransportationTypeHandle = rtiAmbassadors.get(0).getTransportationTypeHandle(HLA_RELIABLE);
+    bestEffortTransportationTypeHandle = rtiAmbassadors.get(0).getTransportationTypeHandle(HLA_BEST_EFFORT);
+
     synchronize(SYNCHRONIZATION_POINT_SETUP_COMPLETE, federateAmbassadors);
   }
 
@@ -182,6 +192,111 @@ public class ObjectRegionTestNG
       objectInstanceHandle, objectAttributeValues, federateHandles.get(0), TAG, false);
   }
 
+  @Test(dependsOnMethods = "testUpdateAttributeValues")
+  public void testUpdateAttributeValuesWithModifiedRegion()
+    throws Exception
+  {
+    modifyRegion(new RangeBounds(0L, 10L));
+
+    rtiAmbassadors.get(0).updateAttributeValues(objectInstanceHandle, objectAttributeValues, TAG);
+
+    RegionHandle sentRegionHandle = federateAmbassadors.get(1).checkSentRegion(
+      objectInstanceHandle, reliableTransportationTypeHandle, dimensionHandle1, new RangeBounds(0L, 10L));
+
+    // the extents are not sent again, the callback uses the same temporary region
+    //
+    rtiAmbassadors.get(0).updateAttributeValues(objectInstanceHandle, objectAttributeValues, TAG);
+
+    assert sentRegionHandle.equals(federateAmbassadors.get(1).checkSentRegion(
+      objectInstanceHandle, reliableTransportationTypeHandle, dimensionHandle1, new RangeBounds(0L, 10L)));
+
+    modifyRegion(new RangeBounds(10L, 20L));
+
+    rtiAmbassadors.get(0).updateAttributeValues(objectInstanceHandle, objectAttributeValues, TAG);
+
+    RegionHandle modifiedSentRegionHandle = federateAmbassadors.get(1).checkSentRegion(
+      objectInstanceHandle, reliableTransportationTypeHandle, dimensionHandle1, new RangeBounds(10L, 20L));
+    assert !sentRegionHandle.equals(modifiedSentRegionHandle);
+
+    // the temporary region of the superseded extents is deleted once the callback is over
+    //
+    checkRegionDeleted(sentRegionHandle);
+  }
+
+  @Test(dependsOnMethods = "testUpdateAttributeValuesWithModifiedRegion")
+  public void testUpdateAttributeValuesBestEffort()
+    throws Exception
+  {
+    AttributeHandleSet attributeHandles = rtiAmbassadors.get(0).getAttributeHandleSetFactory().create();
+    attributeHandles.add(attributeHandle1);
+    attributeHandles.add(attributeHandle2);
+    attributeHandles.add(attributeHandle3);
+
+    modifyRegion(new RangeBounds(20L, 30L));
+
+    rtiAmbassadors.get(0).requestAttributeTransportationTypeChange(
+      objectInstanceHandle, attributeHandles, bestEffortTransportationTypeHandle);
+
+    rtiAmbassadors.get(0).updateAttributeValues(objectInstanceHandle, objectAttributeValues, TAG);
+
+    // a best effort callback carries the extents without caching them
+    //
+    RegionHandle bestEffortSentRegionHandle = federateAmbassadors.get(1).checkSentRegion(
+      objectInstanceHandle, bestEffortTransportationTypeHandle, dimensionHandle1, new RangeBounds(20L, 30L));
+
+    checkRegionDeleted(bestEffortSentRegionHandle);
+
+    rtiAmbassadors.get(0).requestAttributeTransportationTypeChange(
+      objectInstanceHandle, attributeHandles, reliableTransportationTypeHandle);
+
+    rtiAmbassadors.get(0).updateAttributeValues(objectInstanceHandle, objectAttributeValues, TAG);
+
+    RegionHandle sentRegionHandle = federateAmbassadors.get(1).checkSentRegion(
+      objectInstanceHandle, reliableTransportationTypeHandle, dimensionHandle1, new RangeBounds(20L, 30L));
+
+    rtiAmbassadors.get(0).requestAttributeTransportationTypeChange(
+      objectInstanceHandle, attributeHandles, bestEffortTransportationTypeHandle);
+
+    rtiAmbassadors.get(0).updateAttributeValues(objectInstanceHandle, objectAttributeValues, TAG);
+
+    // interleaved with reliable callbacks, a best effort callback uses the cached extents
+    //
+    assert sentRegionHandle.equals(federateAmbassadors.get(1).checkSentRegion(
+      objectInstanceHandle, bestEffortTransportationTypeHandle, dimensionHandle1, new RangeBounds(20L, 30L)));
+
+    rtiAmbassadors.get(0).requestAttributeTransportationTypeChange(
+      objectInstanceHandle, attributeHandles, reliableTransportationTypeHandle);
+
+    rtiAmbassadors.get(0).updateAttributeValues(objectInstanceHandle, objectAttributeValues, TAG);
+
+    assert sentRegionHandle.equals(federateAmbassadors.get(1).checkSentRegion(
+      objectInstanceHandle, reliableTransportationTypeHandle, dimensionHandle1, new RangeBounds(20L, 30L)));
+  }
+
+  private void modifyRegion(RangeBounds rangeBounds)
+    throws Exception
+  {
+    rtiAmbassadors.get(0).setRangeBounds(regionHandle1, dimensionHandle1, rangeBounds);
+
+    RegionHandleSet regionHandles = rtiAmbassadors.get(0).getRegionHandleSetFactory().create();
+    regionHandles.add(regionHandle1);
+    rtiAmbassadors.get(0).commitRegionModifications(regionHandles);
+  }
+
+  private void checkRegionDeleted(RegionHandle regionHandle)
+    throws Exception
+  {
+    try
+    {
+      rtiAmbassadors.get(1).getRangeBounds(regionHandle, dimensionHandle1);
+      assert false;
+    }
+    catch (InvalidRegion ir)
+    {
+      // intentionally empty
+    }
+  }
+
   protected TestFederateAmbassador createFederateAmbassador(RTIambassador rtiAmbassador)
   {
     return new TestFederateAmbassador(rtiAmbassador);
@@ -193,6 +308,14 @@ public class ObjectRegionTestNG
     private final Map<ObjectInstanceHandle, TestObjectInstance> objectInstances =
       new HashMap<ObjectInstanceHandle, TestObjectInstance>();
 
+    /**
+     * The extents of the temporary regions passed with the last reflection, they are only valid during the callback.
+     */
+    private final Map<RegionHandle, Map<DimensionHandle, RangeBounds>> sentRegions =
+      new HashMap<RegionHandle, Map<DimensionHandle, RangeBounds>>();
+
+    private TransportationTypeHandle transportationTypeHandle;
+
     public TestFederateAmbassador(RTIambassador rtiAmbassador)
     {
       super(rtiAmbassador);
@@ -231,6 +354,34 @@ public class ObjectRegionTestNG
       assert Arrays.equals(tag, objectInstance.getTag());
       assert objectInstance.getUpdatingFederateHandle().equals(federateHandle);
       assert !hasRegions || objectInstance.getReflectInfo().hasSentRegions();
+
+      objectInstance.setAttributeValues(null, null, null, null);
+    }
+
+    public RegionHandle checkSentRegion(
+      final ObjectInstanceHandle objectInstanceHandle, TransportationTypeHandle transportationTypeHandle,
+      DimensionHandle dimensionHandle, RangeBounds rangeBounds)
+      throws Exception
+    {
+      evokeCallbackWhile(new Callable<Boolean>()
+      {
+        public Boolean call()
+        {
+          return objectInstances.get(objectInstanceHandle).getAttributeValues() == null;
+        }
+      });
+
+      TestObjectInstance objectInstance = objectInstances.get(objectInstanceHandle);
+      assert objectInstance.getAttributeValues() != null;
+      assert transportationTypeHandle.equals(this.transportationTypeHandle);
+      assert sentRegions.size() == 1;
+
+      Map.Entry<RegionHandle, Map<DimensionHandle, RangeBounds>> sentRegion = sentRegions.entrySet().iterator().next();
+      assert Collections.singletonMap(dimensionHandle, rangeBounds).equals(sentRegion.getValue());
+
+      objectInstance.setAttributeValues(null, null, null, null);
+
+      return sentRegion.getKey();
     }
 
     @Override
@@ -260,6 +411,29 @@ public class ObjectRegionTestNG
       throws FederateInternalError
     {
       objectInstances.get(objectInstanceHandle).setAttributeValues(attributeValues, tag, null, reflectInfo);
+
+      this.transportationTypeHandle = transportationTypeHandle;
+
+      sentRegions.clear();
+      if (reflectInfo.hasSentRegions())
+      {
+        try
+        {
+          for (RegionHandle regionHandle : reflectInfo.getSentRegions())
+          {
+            Map<DimensionHandle, RangeBounds> rangeBounds = new HashMap<DimensionHandle, RangeBounds>();
+            for (DimensionHandle dimensionHandle : rtiAmbassador.getDimensionHandleSet(regionHandle))
+            {
+              rangeBounds.put(dimensionHandle, rtiAmbassador.getRangeBounds(regionHandle, dimensionHandle));
+            }
+            sentRegions.put(regionHandle, rangeBounds);
+          }
+        }
+        catch (RTIexception rtie)
+        {
+          throw new FederateInternalError(rtie.getMessage(), rtie);
+        }
+      }
     }
   }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.hla.rti1516e.encoding;
+
+import java.util.Arrays;
+
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516DataElement;
+import net.sf.ohla.rti.hla.rti1516e.encoding.IEEE1516eEncoderFactory;
+
+import hla.rti1516e.encoding.DataElement;
+import hla.rti1516e.encoding.EncoderFactory;
+
+public abstract class BaseEncodingTestNG
+{
+  protected final EncoderFactory encoderFactory = IEEE1516eEncoderFactory.INSTANCE;
+
+  /**
+   * Checks the encoding of the specified element against the expected bytes and decodes it back into the other
+   * element.
+   */
+  protected static void checkEncoding(DataElement dataElement, DataElement decoded, int octetBoundary, int... expected)
+    throws Exception
+  {
+    byte[] bytes = dataElement.toByteArray();
+
+    assert Arrays.equals(toBytes(expected), bytes) : Arrays.toString(bytes);
+    assert dataElement.getEncodedLength() == bytes.length;
+    assert dataElement.getOctetBoundary() == octetBoundary;
+
+    decoded.decode(bytes);
+    assert dataElement.equals(decoded) : decoded;
+    assert dataElement.hashCode() == decoded.hashCode();
+  }
+
+  /**
+   * Checks the encoding of the specified element against the encoding of the equivalent IEEE 1516 jlc element.
+   */
+  protected static void checkJLCEncoding(DataElement dataElement, IEEE1516DataElement jlcDataElement)
+    throws Exception
+  {
+    checkJLCBytes(dataElement, jlcDataElement);
+    assert dataElement.getOctetBoundary() == jlcDataElement.getOctetBoundary();
+  }
+
+  /**
+   * Checks only the bytes of the specified element against the bytes of the equivalent IEEE 1516 jlc element. The
+   * jlc 64-bit types align to 4 octets where IEEE 1516e aligns them to 8, so only their bytes are comparable.
+   */
+  protected static void checkJLCBytes(DataElement dataElement, IEEE1516DataElement jlcDataElement)
+    throws Exception
+  {
+    byte[] bytes = dataElement.toByteArray();
+    byte[] jlcBytes = jlcDataElement.toByteArray();
+
+    assert Arrays.equals(jlcBytes, bytes) : Arrays.toString(bytes) + " != " + Arrays.toString(jlcBytes);
+  }
+
+  protected static byte[] toBytes(int... values)
+  {
+    byte[] bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      bytes[i] = (byte) values[i];
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.hla.rti1516e.encoding;
+
+import java.util.Arrays;
+
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAASCIIchar;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAASCIIstring;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAboolean;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAbyte;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAfloat32BE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAfloat32LE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAfloat64BE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAfloat64LE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAinteger16BE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAinteger16LE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAinteger32BE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAinteger32LE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAinteger64BE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAinteger64LE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAoctet;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAoctetPairBE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAoctetPairLE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAopaqueData;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAunicodeChar;
+
+import org.testng.annotations.Test;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.DecoderException;
+import hla.rti1516e.encoding.EncoderException;
+import hla.rti1516e.encoding.HLAASCIIstring;
+import hla.rti1516e.encoding.HLAinteger32BE;
+import hla.rti1516e.encoding.HLAinteger64LE;
+import hla.rti1516e.encoding.HLAopaqueData;
+import hla.rti1516e.encoding.HLAunicodeString;
+
+/**
+ * Encodes every basic and simple IEEE 1516e data type, checks the bytes against the encoding the standard specifies
+ * and against the IEEE 1516 jlc data elements, and decodes them back.
+ */
+@Test
+public class BasicDataTypeEncodingTestNG
+  extends BaseEncodingTestNG
+{
+  @Test
+  public void testHLAoctet()
+    throws Exception
+  {
+    checkEncoding(encoderFactory.createHLAoctet((byte) 0xA5), encoderFactory.createHLAoctet(), 1, 0xA5);
+    checkJLCEncoding(encoderFactory.createHLAoctet((byte) 0xA5), new IEEE1516HLAoctet((byte) 0xA5));
+  }
+
+  @Test
+  public void testHLAbyte()
+    throws Exception
+  {
+    checkEncoding(encoderFactory.createHLAbyte((byte) -2), encoderFactory.createHLAbyte(), 1, 0xFE);
+    checkJLCEncoding(encoderFactory.createHLAbyte((byte) -2), new IEEE1516HLAbyte((byte) -2));
+  }
+
+  @Test
+  public void testHLAASCIIchar()
+    throws Exception
+  {
+    checkEncoding(encoderFactory.createHLAASCIIchar((byte) 'A'), encoderFactory.createHLAASCIIchar(), 1, 'A');
+    checkJLCEncoding(encoderFactory.createHLAASCIIchar((byte) 'A'), new IEEE1516HLAASCIIchar((byte) 'A'));
+  }
+
+  @Test
+  public void testHLAoctetPairBE()
+    throws Exception
+  {
+    checkEncoding(
+      encoderFactory.createHLAoctetPairBE((short) 0x0102), encoderFactory.createHLAoctetPairBE(), 2, 0x01, 0x02);
+    checkJLCEncoding(encoderFactory.createHLAoctetPairBE((short) 0x0102), new IEEE1516HLAoctetPairBE((short) 0x0102));
+  }
+
+  @Test
+  public void testHLAoctetPairLE()
+    throws Exception
+  {
+    checkEncoding(
+      encoderFactory.createHLAoctetPairLE((short) 0x0102), encoderFactory.createHLAoctetPairLE(), 2, 0x02, 0x01);
+    checkJLCEncoding(encoderFactory.createHLAoctetPairLE((short) 0x0102), new IEEE1516HLAoctetPairLE((short) 0x0102));
+  }
+
+  @Test
+  public void testHLAunicodeChar()
+    throws Exception
+  {
+    checkEncoding(
+      encoderFactory.createHLAunicodeChar((short) 0x00E9), encoderFactory.createHLAunicodeChar(), 2, 0x00, 0xE9);
+    checkJLCEncoding(encoderFactory.createHLAunicodeChar((short) 0x0041), new IEEE1516HLAunicodeChar((byte) 0x41));
+  }
+
+  @Test
+  public void testHLAinteger16BE()
+    throws Exception
+  {
+    checkEncoding(
+      encoderFactory.createHLAinteger16BE((short) 0x0102), encoderFactory.createHLAinteger16BE(), 2, 0x01, 0x02);
+    checkEncoding(
+      encoderFactory.createHLAinteger16BE((short) -2), encoderFactory.createHLAinteger16BE(), 2, 0xFF, 0xFE);
+    checkJLCEncoding(encoderFactory.createHLAinteger16BE((short) -2), new IEEE1516HLAinteger16BE((short) -2));
+  }
+
+  @Test
+  public void testHLAinteger16LE()
+    throws Exception
+  {
+    checkEncoding(
+      encoderFactory.createHLAinteger16LE((short) 0x0102), encoderFactory.createHLAinteger16LE(), 2, 0x02, 0x01);
+    checkEncoding(
+      encoderFactory.createHLAinteger16LE((short) -2), encoderFactory.createHLAinteger16LE(), 2, 0xFE, 0xFF);
+    checkJLCEncoding(encoderFactory.createHLAinteger16LE((short) -2), new IEEE1516HLAinteger16LE((short) -2));
+  }
+
+  @Test
+  public void testHLAinteger32BE()
+    throws Exception
+  {
+    checkEncoding(
+      encoderFactory.createHLAinteger32BE(0x01020304), encoderFactory.createHLAinteger32BE(), 4,
+      0x01, 0x02, 0x03, 0x04);
+    checkEncoding(
+      encoderFactory.createHLAinteger32BE(-2), encoderFactory.createHLAinteger32BE(), 4, 0xFF, 0xFF, 0xFF, 0xFE);
+    checkJLCEncoding(encoderFactory.createHLAinteger32BE(-2), new IEEE1516HLAinteger32BE(-2));
+  }
+
+  @Test
+  public void testHLAinteger32LE()
+    throws Exception
+  {
+    checkEncoding(
+      encoderFactory.createHLAinteger32LE(0x01020304), encoderFactory.createHLAinteger32LE(), 4,
+      0x04, 0x03, 0x02, 0x01);
+    checkEncoding(
+      encoderFactory.createHLAinteger32LE(-2), encoderFactory.createHLAinteger32LE(), 4, 0xFE, 0xFF, 0xFF, 0xFF);
+    checkJLCEncoding(encoderFactory.createHLAinteger32LE(-2), new IEEE1516HLAinteger32LE(-2));
+  }
+
+  @Test
+  public void testHLAinteger64BE()
+    throws Exception
+  {
+    checkEncoding(
+      encoderFactory.createHLAinteger64BE(0x0102030405060708L), encoderFactory.createHLAinteger64BE(), 8,
+      0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08);
+    checkEncoding(
+      encoderFactory.createHLAinteger64BE(Long.MIN_VALUE), encoderFactory.createHLAinteger64BE(), 8,
+      0x80, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00);
+    checkJLCBytes(
+      encoderFactory.createHLAinteger64BE(0x0102030405060708L), new IEEE1516HLAinteger64BE(0x0102030405060708L));
+  }
+
+  @Test
+  public void testHLAinteger64LE()
+    throws Exception
+  {
+    checkEncoding(
+      encoderFactory.createHLAinteger64LE(0x0102030405060708L), encoderFactory.createHLAinteger64LE(), 8,
+      0x08, 0x07, 0x06, 0x05, 0x04, 0x03, 0x02, 0x01);
+    checkEncoding(
+      encoderFactory.createHLAinteger64LE(Long.MIN_VALUE), encoderFactory.createHLAinteger64LE(), 8,
+      0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x80);
+    checkJLCBytes(
+      encoderFactory.createHLAinteger64LE(0x0102030405060708L), new IEEE1516HLAinteger64LE(0x0102030405060708L));
+  }
+
+  @Test
+  public void testHLAfloat32BE()
+    throws Exception
+  {
+    checkEncoding(encoderFactory.createHLAfloat32BE(1.5f), encoderFactory.createHLAfloat32BE(), 4,
+                  0x3F, 0xC0, 0x00, 0x00);
+    checkEncoding(encoderFactory.createHLAfloat32BE(Float.NaN), encoderFactory.createHLAfloat32BE(), 4,
+                  0x7F, 0xC0, 0x00, 0x00);
+    checkJLCEncoding(encoderFactory.createHLAfloat32BE(-1.5f), new IEEE1516HLAfloat32BE(-1.5f));
+  }
+
+  @Test
+  public void testHLAfloat32LE()
+    throws Exception
+  {
+    checkEncoding(encoderFactory.createHLAfloat32LE(1.5f), encoderFactory.createHLAfloat32LE(), 4,
+                  0x00, 0x00, 0xC0, 0x3F);
+    checkJLCEncoding(encoderFactory.createHLAfloat32LE(-1.5f), new IEEE1516HLAfloat32LE(-1.5f));
+  }
+
+  @Test
+  public void testHLAfloat64BE()
+    throws Exception
+  {
+    checkEncoding(encoderFactory.createHLAfloat64BE(1.5), encoderFactory.createHLAfloat64BE(), 8,
+                  0x3F, 0xF8, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00);
+    checkJLCBytes(encoderFactory.createHLAfloat64BE(-1.5), new IEEE1516HLAfloat64BE(-1.5));
+  }
+
+  @Test
+  public void testHLAfloat64LE()
+    throws Exception
+  {
+    checkEncoding(encoderFactory.createHLAfloat64LE(1.5), encoderFactory.createHLAfloat64LE(), 8,
+                  0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0xF8, 0x3F);
+    checkJLCBytes(encoderFactory.createHLAfloat64LE(-1.5), new IEEE1516HLAfloat64LE(-1.5));
+  }
+
+  @Test
+  public void testHLAboolean()
+    throws Exception
+  {
+    checkEncoding(encoderFactory.createHLAboolean(true), encoderFactory.createHLAboolean(), 4, 0x00, 0x00, 0x00, 0x01);
+    checkEncoding(encoderFactory.createHLAboolean(false), encoderFactory.createHLAboolean(true), 4,
+                  0x00, 0x00, 0x00, 0x00);
+    checkJLCEncoding(encoderFactory.createHLAboolean(true), new IEEE1516HLAboolean(true));
+  }
+
+  @Test
+  public void testHLAASCIIstring()
+    throws Exception
+  {
+    checkEncoding(encoderFactory.createHLAASCIIstring("abc"), encoderFactory.createHLAASCIIstring(), 4,
+                  0x00, 0x00, 0x00, 0x03, 'a', 'b', 'c');
+    checkEncoding(encoderFactory.createHLAASCIIstring(""), encoderFactory.createHLAASCIIstring("abc"), 4,
+                  0x00, 0x00, 0x00, 0x00);
+    checkJLCEncoding(encoderFactory.createHLAASCIIstring("abc"), new IEEE1516HLAASCIIstring("abc"));
+  }
+
+  @Test
+  public void testHLAASCIIstringReusesUnchangedValue()
+    throws Exception
+  {
+    byte[] bytes = encoderFactory.createHLAASCIIstring("abc").toByteArray();
+
+    HLAASCIIstring decoded = encoderFactory.createHLAASCIIstring();
+    decoded.decode(bytes);
+    String value = decoded.getValue();
+
+    decoded.decode(bytes);
+    assert value == decoded.getValue();
+  }
+
+  @Test
+  public void testHLAunicodeString()
+    throws Exception
+  {
+    // not compared with the jlc element, it writes a byte order mark
+    //
+    checkEncoding(encoderFactory.createHLAunicodeString("a\u00E9"), encoderFactory.createHLAunicodeString(), 4,
+                  0x00, 0x00, 0x00, 0x02, 0x00, 'a', 0x00, 0xE9);
+  }
+
+  @Test
+  public void testHLAopaqueData()
+    throws Exception
+  {
+    byte[] value = new byte[] { 1, 2, 3 };
+
+    checkEncoding(encoderFactory.createHLAopaqueData(value), encoderFactory.createHLAopaqueData(), 4,
+                  0x00, 0x00, 0x00, 0x03, 0x01, 0x02, 0x03);
+    checkJLCEncoding(encoderFactory.createHLAopaqueData(value), new IEEE1516HLAopaqueData(value));
+  }
+
+  @Test
+  public void testHLAopaqueDataReusesDecodedArray()
+    throws Exception
+  {
+    HLAopaqueData decoded = encoderFactory.createHLAopaqueData();
+
+    decoded.decode(encoderFactory.createHLAopaqueData(new byte[] { 1, 2, 3 }).toByteArray());
+    byte[] value = decoded.getValue();
+
+    decoded.decode(encoderFactory.createHLAopaqueData(new byte[] { 4, 5, 6 }).toByteArray());
+    assert value == decoded.getValue();
+    assert Arrays.equals(new byte[] { 4, 5, 6 }, value);
+  }
+
+  @Test
+  public void testEncodeAlignsRelativeToOffset()
+    throws Exception
+  {
+    byte[] buffer = new byte[6];
+
+    ByteWrapper byteWrapper = new ByteWrapper(buffer, 1);
+    encoderFactory.createHLAinteger32BE(0x01020304).encode(byteWrapper);
+
+    assert byteWrapper.getPos() == 5;
+    assert Arrays.equals(toBytes(0x00, 0x01, 0x02, 0x03, 0x04, 0x00), buffer);
+  }
+
+  @Test(expectedExceptions = EncoderException.class)
+  public void testEncodeOverflow()
+    throws Exception
+  {
+    encoderFactory.createHLAinteger32BE(1).encode(new ByteWrapper(new byte[6], 3));
+  }
+
+  @Test(expectedExceptions = EncoderException.class)
+  public void testEncodeStringOverflow()
+    throws Exception
+  {
+    encoderFactory.createHLAASCIIstring("abc").encode(new ByteWrapper(6));
+  }
+
+  @Test(expectedExceptions = DecoderException.class)
+  public void testDecodeUnderflow()
+    throws Exception
+  {
+    HLAinteger64LE decoded = encoderFactory.createHLAinteger64LE();
+    decoded.decode(new byte[7]);
+  }
+
+  @Test(expectedExceptions = DecoderException.class)
+  public void testDecodeStringUnderflow()
+    throws Exception
+  {
+    // claims 4 characters but only has 3
+    //
+    HLAunicodeString decoded = encoderFactory.createHLAunicodeString();
+    decoded.decode(toBytes(0x00, 0x00, 0x00, 0x04, 0x00, 'a', 0x00, 'b', 0x00, 'c'));
+  }
+
+  @Test(expectedExceptions = DecoderException.class)
+  public void testDecodeNegativeLength()
+    throws Exception
+  {
+    HLAopaqueData decoded = encoderFactory.createHLAopaqueData();
+    decoded.decode(toBytes(0xFF, 0xFF, 0xFF, 0xFF));
+  }
+
+  @Test
+  public void testDecodeUnderflowLeavesValue()
+    throws Exception
+  {
+    HLAinteger32BE decoded = encoderFactory.createHLAinteger32BE(42);
+    try
+    {
+      decoded.decode(new byte[3]);
+
+      assert false;
+    }
+    catch (DecoderException de)
+    {
+      assert decoded.getValue() == 42;
+    }
+  }
+}
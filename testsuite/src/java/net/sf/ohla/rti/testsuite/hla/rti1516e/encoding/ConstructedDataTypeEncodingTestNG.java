@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.hla.rti1516e.encoding;
+
+import java.util.Arrays;
+
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAASCIIstring;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAfixedRecord;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAinteger32BE;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAopaqueData;
+import net.sf.ohla.rti.hla.rti1516.jlc.IEEE1516HLAvariableArray;
+
+import org.testng.annotations.Test;
+
+import hla.rti1516e.encoding.ByteWrapper;
+import hla.rti1516e.encoding.DataElementFactory;
+import hla.rti1516e.encoding.DecoderException;
+import hla.rti1516e.encoding.EncoderException;
+import hla.rti1516e.encoding.HLAfixedArray;
+import hla.rti1516e.encoding.HLAfixedRecord;
+import hla.rti1516e.encoding.HLAfloat64BE;
+import hla.rti1516e.encoding.HLAinteger16BE;
+import hla.rti1516e.encoding.HLAinteger32BE;
+import hla.rti1516e.encoding.HLAoctet;
+import hla.rti1516e.encoding.HLAvariableArray;
+import hla.rti1516e.encoding.HLAvariantRecord;
+
+
+/**
+ * Encodes the IEEE 1516e constructed data types, checks the padding between their elements against the encoding the
+ * standard specifies and against the IEEE 1516 jlc data elements where both support the type, and decodes them back.
+ */
+@Test
+public class ConstructedDataTypeEncodingTestNG
+  extends BaseEncodingTestNG
+{
+  private final DataElementFactory<HLAinteger16BE> integer16BEFactory = new DataElementFactory<HLAinteger16BE>()
+  {
+    public HLAinteger16BE createElement(int index)
+    {
+      return encoderFactory.createHLAinteger16BE();
+    }
+  };
+
+  private final DataElementFactory<HLAfloat64BE> float64BEFactory = new DataElementFactory<HLAfloat64BE>()
+  {
+    public HLAfloat64BE createElement(int index)
+    {
+      return encoderFactory.createHLAfloat64BE();
+    }
+  };
+
+  @Test
+  public void testHLAfixedArray()
+    throws Exception
+  {
+    HLAfixedArray<HLAinteger16BE> fixedArray = encoderFactory.createHLAfixedArray(
+      encoderFactory.createHLAinteger16BE((short) 1), encoderFactory.createHLAinteger16BE((short) 2),
+      encoderFactory.createHLAinteger16BE((short) 3));
+
+    checkEncoding(fixedArray, encoderFactory.createHLAfixedArray(integer16BEFactory, 3), 2,
+                  0x00, 0x01, 0x00, 0x02, 0x00, 0x03);
+  }
+
+  @Test
+  public void testHLAvariableArray()
+    throws Exception
+  {
+    HLAvariableArray<HLAinteger32BE> variableArray = createIntegerArray(1, 2, 3);
+
+    checkEncoding(variableArray, encoderFactory.createHLAvariableArray(new CountingFactory()), 4,
+                  0x00, 0x00, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, 0x00, 0x00, 0x02, 0x00, 0x00, 0x00, 0x03);
+    checkJLCEncoding(variableArray, new IEEE1516HLAvariableArray(new IEEE1516HLAinteger32BE[] {
+      new IEEE1516HLAinteger32BE(1), new IEEE1516HLAinteger32BE(2), new IEEE1516HLAinteger32BE(3) }));
+  }
+
+  @Test
+  public void testHLAvariableArrayPadsToElements()
+    throws Exception
+  {
+    HLAvariableArray<HLAfloat64BE> variableArray = encoderFactory.createHLAvariableArray(
+      float64BEFactory, encoderFactory.createHLAfloat64BE(1.5), encoderFactory.createHLAfloat64BE(2.5));
+
+    // the count is followed by 4 bytes of padding to align the first element
+    //
+    checkEncoding(variableArray, encoderFactory.createHLAvariableArray(float64BEFactory), 8,
+                  0x00, 0x00, 0x00, 0x02, 0x00, 0x00, 0x00, 0x00,
+                  0x3F, 0xF8, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+                  0x40, 0x04, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00);
+  }
+
+  @Test
+  public void testHLAvariableArrayResizeReusesElements()
+    throws Exception
+  {
+    CountingFactory factory = new CountingFactory();
+
+    HLAvariableArray<HLAinteger32BE> variableArray = encoderFactory.createHLAvariableArray(factory);
+
+    variableArray.resize(4);
+    assert variableArray.size() == 4;
+    assert factory.created == 4;
+
+    HLAinteger32BE first = variableArray.get(0);
+    HLAinteger32BE last = variableArray.get(3);
+
+    variableArray.resize(1);
+    assert variableArray.size() == 1;
+
+    variableArray.resize(4);
+    assert variableArray.size() == 4;
+    assert factory.created == 4;
+    assert variableArray.get(3) == last;
+
+    // decoding fewer elements keeps the rest for later
+    //
+    variableArray.decode(createIntegerArray(1, 2, 3).toByteArray());
+    assert variableArray.size() == 3;
+    assert factory.created == 4;
+    assert variableArray.get(0) == first;
+    assert variableArray.get(2).getValue() == 3;
+
+    variableArray.decode(createIntegerArray(1, 2, 3, 4, 5).toByteArray());
+    assert variableArray.size() == 5;
+    assert factory.created == 5;
+    assert variableArray.get(3) == last;
+    assert variableArray.get(4).getValue() == 5;
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void testHLAvariableArrayResizeWithoutFactory()
+  {
+    createIntegerArray(1, 2).resize(3);
+  }
+
+  @Test(expectedExceptions = DecoderException.class)
+  public void testHLAvariableArrayDecodeWithoutFactory()
+    throws Exception
+  {
+    createIntegerArray(1, 2).decode(createIntegerArray(1, 2, 3).toByteArray());
+  }
+
+  @Test
+  public void testHLAfixedRecordPadding()
+    throws Exception
+  {
+    HLAfixedRecord fixedRecord = encoderFactory.createHLAfixedRecord();
+    fixedRecord.add(encoderFactory.createHLAoctet((byte) 1));
+    fixedRecord.add(encoderFactory.createHLAinteger32BE(2));
+    fixedRecord.add(encoderFactory.createHLAoctet((byte) 3));
+    fixedRecord.add(encoderFactory.createHLAfloat64BE(1.5));
+
+    HLAfixedRecord decoded = encoderFactory.createHLAfixedRecord();
+    decoded.add(encoderFactory.createHLAoctet());
+    decoded.add(encoderFactory.createHLAinteger32BE());
+    decoded.add(encoderFactory.createHLAoctet());
+    decoded.add(encoderFactory.createHLAfloat64BE());
+
+    checkEncoding(fixedRecord, decoded, 8,
+                  0x01, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x02,
+                  0x03, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+                  0x3F, 0xF8, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00);
+  }
+
+  @Test
+  public void testNestedHLAfixedRecordPadding()
+    throws Exception
+  {
+    HLAfixedRecord fixedRecord = encoderFactory.createHLAfixedRecord();
+    fixedRecord.add(encoderFactory.createHLAoctet((byte) 9));
+    fixedRecord.add(createInnerRecord((short) 0x0102, 1.5));
+
+    HLAfixedRecord decoded = encoderFactory.createHLAfixedRecord();
+    decoded.add(encoderFactory.createHLAoctet());
+    decoded.add(createInnerRecord((short) 0, 0.0));
+
+    // the inner record is aligned to its float
+    //
+    checkEncoding(fixedRecord, decoded, 8,
+                  0x09, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+                  0x01, 0x02, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+                  0x3F, 0xF8, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00);
+  }
+
+  @Test
+  public void testHLAfixedRecordMatchesJLC()
+    throws Exception
+  {
+    HLAfixedRecord fixedRecord = encoderFactory.createHLAfixedRecord();
+    fixedRecord.add(encoderFactory.createHLAinteger32BE(7));
+    fixedRecord.add(encoderFactory.createHLAASCIIstring("ab"));
+    fixedRecord.add(encoderFactory.createHLAinteger32BE(8));
+    fixedRecord.add(encoderFactory.createHLAopaqueData(new byte[] { 1 }));
+    fixedRecord.add(createIntegerArray(1, 2));
+
+    IEEE1516HLAfixedRecord jlcFixedRecord = new IEEE1516HLAfixedRecord();
+    jlcFixedRecord.add(new IEEE1516HLAinteger32BE(7));
+    jlcFixedRecord.add(new IEEE1516HLAASCIIstring("ab"));
+    jlcFixedRecord.add(new IEEE1516HLAinteger32BE(8));
+    jlcFixedRecord.add(new IEEE1516HLAopaqueData(new byte[] { 1 }));
+    jlcFixedRecord.add(new IEEE1516HLAvariableArray(new IEEE1516HLAinteger32BE[] {
+      new IEEE1516HLAinteger32BE(1), new IEEE1516HLAinteger32BE(2) }));
+
+    checkJLCEncoding(fixedRecord, jlcFixedRecord);
+  }
+
+  @Test
+  public void testHLAvariantRecordPadding()
+    throws Exception
+  {
+    HLAvariantRecord<HLAoctet> variantRecord = createVariantRecord(1.5, (short) 5);
+    HLAvariantRecord<HLAoctet> decoded = createVariantRecord(0.0, (short) 0);
+
+    // aligned to the largest alternative
+    //
+    variantRecord.setDiscriminant(encoderFactory.createHLAoctet((byte) 1));
+    checkEncoding(variantRecord, decoded, 8,
+                  0x01, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+                  0x3F, 0xF8, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00);
+
+    variantRecord.setDiscriminant(encoderFactory.createHLAoctet((byte) 2));
+    checkEncoding(variantRecord, decoded, 8, 0x02, 0x00, 0x00, 0x05);
+
+    variantRecord.setDiscriminant(encoderFactory.createHLAoctet((byte) 3));
+    checkEncoding(variantRecord, decoded, 8, 0x03);
+  }
+
+  @Test
+  public void testHLAvariantRecordInHLAfixedRecord()
+    throws Exception
+  {
+    HLAvariantRecord<HLAoctet> variantRecord = createVariantRecord(1.5, (short) 5);
+    variantRecord.setDiscriminant(encoderFactory.createHLAoctet((byte) 2));
+
+    HLAfixedRecord fixedRecord = encoderFactory.createHLAfixedRecord();
+    fixedRecord.add(encoderFactory.createHLAoctet((byte) 7));
+    fixedRecord.add(variantRecord);
+
+    HLAfixedRecord decoded = encoderFactory.createHLAfixedRecord();
+    decoded.add(encoderFactory.createHLAoctet());
+    decoded.add(createVariantRecord(0.0, (short) 0));
+
+    checkEncoding(fixedRecord, decoded, 8,
+                  0x07, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+                  0x02, 0x00, 0x00, 0x05);
+  }
+
+  @Test(expectedExceptions = DecoderException.class)
+  public void testHLAvariantRecordUnknownDiscriminant()
+    throws Exception
+  {
+    createVariantRecord(0.0, (short) 0).decode(toBytes(0x09));
+  }
+
+  @Test(expectedExceptions = EncoderException.class)
+  public void testHLAfixedRecordEncodeOverflow()
+    throws Exception
+  {
+    HLAfixedRecord fixedRecord = createInnerRecord((short) 1, 1.5);
+    fixedRecord.encode(new ByteWrapper(fixedRecord.getEncodedLength() - 1));
+  }
+
+  @Test(expectedExceptions = DecoderException.class)
+  public void testHLAfixedRecordDecodeUnderflow()
+    throws Exception
+  {
+    HLAfixedRecord fixedRecord = createInnerRecord((short) 1, 1.5);
+    byte[] bytes = fixedRecord.toByteArray();
+
+    createInnerRecord((short) 0, 0.0).decode(Arrays.copyOf(bytes, bytes.length - 1));
+  }
+
+  @Test(expectedExceptions = DecoderException.class)
+  public void testHLAvariableArrayDecodeCountUnderflow()
+    throws Exception
+  {
+    // claims 1000 elements but has none
+    //
+    encoderFactory.createHLAvariableArray(new CountingFactory()).decode(toBytes(0x00, 0x00, 0x03, 0xE8));
+  }
+
+  private HLAvariableArray<HLAinteger32BE> createIntegerArray(int... values)
+  {
+    HLAinteger32BE[] elements = new HLAinteger32BE[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      elements[i] = encoderFactory.createHLAinteger32BE(values[i]);
+    }
+    return encoderFactory.createHLAvariableArray(null, elements);
+  }
+
+  private HLAfixedRecord createInnerRecord(short s, double d)
+  {
+    HLAfixedRecord fixedRecord = encoderFactory.createHLAfixedRecord();
+    fixedRecord.add(encoderFactory.createHLAinteger16BE(s));
+    fixedRecord.add(encoderFactory.createHLAfloat64BE(d));
+    return fixedRecord;
+  }
+
+  private HLAvariantRecord<HLAoctet> createVariantRecord(double d, short s)
+  {
+    HLAvariantRecord<HLAoctet> variantRecord = encoderFactory.createHLAvariantRecord(encoderFactory.createHLAoctet());
+    variantRecord.setVariant(encoderFactory.createHLAoctet((byte) 1), encoderFactory.createHLAfloat64BE(d));
+    variantRecord.setVariant(encoderFactory.createHLAoctet((byte) 2), encoderFactory.createHLAinteger16BE(s));
+    variantRecord.setVariant(encoderFactory.createHLAoctet((byte) 3), null);
+    return variantRecord;
+  }
+
+  private class CountingFactory
+    implements DataElementFactory<HLAinteger32BE>
+  {
+    private int created;
+
+    public HLAinteger32BE createElement(int index)
+    {
+      created++;
+      return encoderFactory.createHLAinteger32BE();
+    }
+  }
+}
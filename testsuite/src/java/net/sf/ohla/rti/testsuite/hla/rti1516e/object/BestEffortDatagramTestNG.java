@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.hla.rti1516e.object;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eRTIambassador;
+import net.sf.ohla.rti.messages.DatagramTransport;
+import net.sf.ohla.rti.testsuite.hla.rti1516e.BaseFederateAmbassador;
+import net.sf.ohla.rti.testsuite.hla.rti1516e.BaseTestNG;
+
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import hla.rti1516e.AttributeHandle;
+import hla.rti1516e.AttributeHandleSet;
+import hla.rti1516e.AttributeHandleValueMap;
+import hla.rti1516e.CallbackModel;
+import hla.rti1516e.FederateHandle;
+import hla.rti1516e.ObjectClassHandle;
+import hla.rti1516e.ObjectInstanceHandle;
+import hla.rti1516e.OrderType;
+import hla.rti1516e.RTIambassador;
+import hla.rti1516e.ResignAction;
+import hla.rti1516e.TransportationTypeHandle;
+import hla.rti1516e.exceptions.FederateInternalError;
+
+/**
+ * Connects federates that receive {@code HLAbestEffort} messages as datagrams and checks which reflections arrive as
+ * datagrams and which fall back to the connection to the RTI.
+ */
+@Test
+public class BestEffortDatagramTestNG
+  extends BaseTestNG<BestEffortDatagramTestNG.TestFederateAmbassador>
+{
+  private static final String FEDERATION_NAME = BestEffortDatagramTestNG.class.getSimpleName();
+
+  /**
+   * Larger than the largest datagram sent by default.
+   */
+  private static final int OVERSIZED_VALUE_LENGTH = 4 * DatagramTransport.DEFAULT_MAX_DATAGRAM_SIZE;
+
+  private final boolean embedded = IEEE1516eRTIambassador.EMBEDDED_TRANSPORT.equalsIgnoreCase(
+    System.getProperty(IEEE1516eRTIambassador.OHLA_RTI_TRANSPORT_PROPERTY));
+
+  private AttributeHandleSet attributeHandles;
+
+  private TransportationTypeHandle reliableTransportationTypeHandle;
+  private TransportationTypeHandle bestEffortTransportationTypeHandle;
+
+  private ObjectInstanceHandle objectInstanceHandle;
+
+  private AttributeHandleValueMap attributeValues;
+  private AttributeHandleValueMap oversizedAttributeValues;
+
+  public BestEffortDatagramTestNG()
+  {
+    super(2, FEDERATION_NAME);
+  }
+
+  @BeforeClass
+  public void setup()
+    throws Exception
+  {
+    if (embedded)
+    {
+      // the embedded RTI passes messages without a network so there are no datagrams to check, the tests skip
+      // themselves since a skipped configuration method would skip the configuration methods of every class after it
+      //
+      return;
+    }
+
+    connect(CallbackModel.HLA_EVOKED, DATAGRAM_LOCAL_SETTINGS_DESIGNATOR);
+    createFederationExecution();
+    joinFederationExecution();
+
+    for (RTIambassador rtiAmbassador : rtiAmbassadors)
+    {
+      assert getDatagramTransport(rtiAmbassador) != null;
+    }
+
+    ObjectClassHandle testObjectClassHandle = rtiAmbassadors.get(0).getObjectClassHandle(TEST_OBJECT);
+    AttributeHandle attributeHandle1 = rtiAmbassadors.get(0).getAttributeHandle(testObjectClassHandle, ATTRIBUTE1);
+    AttributeHandle attributeHandle2 = rtiAmbassadors.get(0).getAttributeHandle(testObjectClassHandle, ATTRIBUTE2);
+    AttributeHandle attributeHandle3 = rtiAmbassadors.get(0).getAttributeHandle(testObjectClassHandle, ATTRIBUTE3);
+    attributeHandles = rtiAmbassadors.get(0).getAttributeHandleSetFactory().create();
+    attributeHandles.add(attributeHandle1);
+    attributeHandles.add(attributeHandle2);
+    attributeHandles.add(attributeHandle3);
+
+    reliableTransportationTypeHandle = rtiAmbassadors.get(0).getTransportationTypeHandle(HLA_RELIABLE);
+    bestEffortTransportationTypeHandle = rtiAmbassadors.get(0).getTransportationTypeHandle(HLA_BEST_EFFORT);
+
+    attributeValues = rtiAmbassadors.get(0).getAttributeHandleValueMapFactory().create(3);
+    attributeValues.put(attributeHandle1, ATTRIBUTE1_VALUE.getBytes());
+    attributeValues.put(attributeHandle2, ATTRIBUTE2_VALUE.getBytes());
+    attributeValues.put(attributeHandle3, ATTRIBUTE3_VALUE.getBytes());
+
+    byte[] oversizedValue = new byte[OVERSIZED_VALUE_LENGTH];
+    Arrays.fill(oversizedValue, (byte) 'x');
+
+    oversizedAttributeValues = rtiAmbassadors.get(0).getAttributeHandleValueMapFactory().create(3);
+    oversizedAttributeValues.put(attributeHandle1, oversizedValue);
+    oversizedAttributeValues.put(attributeHandle2, ATTRIBUTE2_VALUE.getBytes());
+    oversizedAttributeValues.put(attributeHandle3, ATTRIBUTE3_VALUE.getBytes());
+
+    rtiAmbassadors.get(0).publishObjectClassAttributes(testObjectClassHandle, attributeHandles);
+    rtiAmbassadors.get(1).subscribeObjectClassAttributes(testObjectClassHandle, attributeHandles);
+
+    objectInstanceHandle = rtiAmbassadors.get(0).registerObjectInstance(testObjectClassHandle);
+
+    federateAmbassadors.get(1).checkObjectInstanceHandle(objectInstanceHandle);
+
+    rtiAmbassadors.get(0).requestAttributeTransportationTypeChange(
+      objectInstanceHandle, attributeHandles, bestEffortTransportationTypeHandle);
+  }
+
+  @AfterClass
+  public void teardown()
+    throws Exception
+  {
+    if (embedded)
+    {
+      return;
+    }
+
+    resignFederationExecution(ResignAction.UNCONDITIONALLY_DIVEST_ATTRIBUTES);
+    destroyFederationExecution();
+    disconnect();
+  }
+
+  @Test
+  public void testBestEffortReflectionArrivesAsDatagram()
+    throws Exception
+  {
+    if (embedded)
+    {
+      throw new SkipException("no datagrams with the " + IEEE1516eRTIambassador.EMBEDDED_TRANSPORT + " transport");
+    }
+
+    long receivedMessages = getDatagramTransport(rtiAmbassadors.get(1)).getReceivedMessages();
+
+    rtiAmbassadors.get(0).updateAttributeValues(objectInstanceHandle, attributeValues, TAG);
+
+    federateAmbassadors.get(1).checkAttributeValues(
+      objectInstanceHandle, attributeValues, bestEffortTransportationTypeHandle);
+
+    assert getDatagramTransport(rtiAmbassadors.get(1)).getReceivedMessages() == receivedMessages + 1;
+  }
+
+  @Test(dependsOnMethods = "testBestEffortReflectionArrivesAsDatagram")
+  public void testOversizedBestEffortReflectionArrivesReliably()
+    throws Exception
+  {
+    long receivedMessages = getDatagramTransport(rtiAmbassadors.get(1)).getReceivedMessages();
+
+    rtiAmbassadors.get(0).updateAttributeValues(objectInstanceHandle, oversizedAttributeValues, TAG);
+
+    // still reflected as best effort, but too large for a datagram
+    //
+    federateAmbassadors.get(1).checkAttributeValues(
+      objectInstanceHandle, oversizedAttributeValues, bestEffortTransportationTypeHandle);
+
+    assert getDatagramTransport(rtiAmbassadors.get(1)).getReceivedMessages() == receivedMessages;
+
+    // and the datagrams still flow afterwards
+    //
+    rtiAmbassadors.get(0).updateAttributeValues(objectInstanceHandle, attributeValues, TAG);
+
+    federateAmbassadors.get(1).checkAttributeValues(
+      objectInstanceHandle, attributeValues, bestEffortTransportationTypeHandle);
+
+    assert getDatagramTransport(rtiAmbassadors.get(1)).getReceivedMessages() == receivedMessages + 1;
+  }
+
+  @Test(dependsOnMethods = "testOversizedBestEffortReflectionArrivesReliably")
+  public void testReliableReflectionArrivesReliably()
+    throws Exception
+  {
+    rtiAmbassadors.get(0).requestAttributeTransportationTypeChange(
+      objectInstanceHandle, attributeHandles, reliableTransportationTypeHandle);
+
+    long receivedMessages = getDatagramTransport(rtiAmbassadors.get(1)).getReceivedMessages();
+
+    rtiAmbassadors.get(0).updateAttributeValues(objectInstanceHandle, attributeValues, TAG);
+
+    federateAmbassadors.get(1).checkAttributeValues(
+      objectInstanceHandle, attributeValues, reliableTransportationTypeHandle);
+
+    assert getDatagramTransport(rtiAmbassadors.get(1)).getReceivedMessages() == receivedMessages;
+  }
+
+  protected TestFederateAmbassador createFederateAmbassador(RTIambassador rtiAmbassador)
+  {
+    return new TestFederateAmbassador(rtiAmbassador);
+  }
+
+  private DatagramTransport getDatagramTransport(RTIambassador rtiAmbassador)
+  {
+    return ((IEEE1516eRTIambassador) rtiAmbassador).getDatagramTransport();
+  }
+
+  public static class TestFederateAmbassador
+    extends BaseFederateAmbassador
+  {
+    private final Map<ObjectInstanceHandle, TestObjectInstance> objectInstances = new HashMap<>();
+
+    private TransportationTypeHandle transportationTypeHandle;
+
+    public TestFederateAmbassador(RTIambassador rtiAmbassador)
+    {
+      super(rtiAmbassador);
+    }
+
+    public void checkObjectInstanceHandle(final ObjectInstanceHandle objectInstanceHandle)
+      throws Exception
+    {
+      evokeCallbackWhile(new Callable<Boolean>()
+      {
+        public Boolean call()
+        {
+          return !objectInstances.containsKey(objectInstanceHandle);
+        }
+      });
+
+      assert objectInstances.containsKey(objectInstanceHandle);
+    }
+
+    public void checkAttributeValues(
+      final ObjectInstanceHandle objectInstanceHandle, AttributeHandleValueMap attributeValues,
+      TransportationTypeHandle transportationTypeHandle)
+      throws Exception
+    {
+      evokeCallbackWhile(new Callable<Boolean>()
+      {
+        public Boolean call()
+        {
+          return objectInstances.get(objectInstanceHandle).getAttributeValues() == null;
+        }
+      });
+
+      TestObjectInstance objectInstance = objectInstances.get(objectInstanceHandle);
+      assert attributeValues.equals(objectInstance.getAttributeValues());
+      assert transportationTypeHandle.equals(this.transportationTypeHandle);
+
+      objectInstance.setAttributeValues(null, null, null, null);
+    }
+
+    @Override
+    public void discoverObjectInstance(
+      ObjectInstanceHandle objectInstanceHandle, ObjectClassHandle objectClassHandle, String objectInstanceName,
+      FederateHandle federateHandle)
+      throws FederateInternalError
+    {
+      objectInstances.put(objectInstanceHandle, new TestObjectInstance(
+        objectInstanceHandle, objectClassHandle, objectInstanceName, federateHandle));
+    }
+
+    @Override
+    public void reflectAttributeValues(
+      ObjectInstanceHandle objectInstanceHandle, AttributeHandleValueMap attributeValues,
+      byte[] tag, OrderType sentOrderType, TransportationTypeHandle transportationTypeHandle,
+      SupplementalReflectInfo reflectInfo)
+      throws FederateInternalError
+    {
+      objectInstances.get(objectInstanceHandle).setAttributeValues(attributeValues, tag, null, reflectInfo);
+
+      this.transportationTypeHandle = transportationTypeHandle;
+    }
+  }
+}
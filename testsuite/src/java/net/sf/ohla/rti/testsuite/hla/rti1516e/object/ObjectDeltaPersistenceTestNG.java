@@ -0,0 +1,511 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.hla.rti1516e.object;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import net.sf.ohla.rti.federation.FederationExecutionSave;
+import net.sf.ohla.rti.testsuite.hla.rti1516e.BaseFederateAmbassador;
+import net.sf.ohla.rti.testsuite.hla.rti1516e.BaseTestNG;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import hla.rti1516e.AttributeHandle;
+import hla.rti1516e.AttributeHandleSet;
+import hla.rti1516e.FederateHandle;
+import hla.rti1516e.ObjectClassHandle;
+import hla.rti1516e.ObjectInstanceHandle;
+import hla.rti1516e.RTIambassador;
+import hla.rti1516e.ResignAction;
+import hla.rti1516e.exceptions.FederateInternalError;
+
+/**
+ * Saves a chain of delta saves, modifying and deleting object instances between them, and restores saves from the
+ * middle and the end of the chain. Federate 0 registers the object instances and federate 1 subscribes to them. After
+ * a restore federate 1 asks the RTI for updates of every object instance of the class, federate 0 is asked to provide
+ * exactly the object instances the RTI restored, and queries who owns them. A delta save whose base has since been
+ * replaced by another save under the same label cannot be restored.
+ * <p/>
+ * The federation execution saves deltas and compacts after {@link #COMPACT_AFTER} delta saves by
+ * {@link FederationExecutionSave#OHLA_RTI_FEDERATION_SAVE_DELTA_PROPERTY_FORMAT} and
+ * {@link FederationExecutionSave#OHLA_RTI_FEDERATION_SAVE_COMPACT_AFTER_PROPERTY_FORMAT}, which the tests set for the
+ * embedded RTI and {@code ant start-rti} sets for a standalone RTI.
+ */
+@Test
+public class ObjectDeltaPersistenceTestNG
+  extends BaseTestNG<ObjectDeltaPersistenceTestNG.TestFederateAmbassador>
+{
+  private static final String FEDERATION_NAME = ObjectDeltaPersistenceTestNG.class.getSimpleName();
+  private static final String SAVE_NAME = FEDERATION_NAME + UUID.randomUUID();
+
+  private static final int COMPACT_AFTER = 3;
+
+  private static final int OBJECT_INSTANCE_COUNT = 8;
+
+  private static final byte[] END_TAG = "END_TAG".getBytes();
+
+  private AttributeHandle attributeHandle1;
+  private AttributeHandle attributeHandle2;
+
+  private AttributeHandleSet testObjectAttributeHandles;
+
+  private ObjectClassHandle testObjectClassHandle;
+
+  private final List<ObjectInstanceHandle> objectInstanceHandles = new ArrayList<ObjectInstanceHandle>();
+
+  /**
+   * The object instances that were not deleted when each save was saved.
+   */
+  private final Map<String, Set<ObjectInstanceHandle>> savedObjectInstanceHandles =
+    new HashMap<String, Set<ObjectInstanceHandle>>();
+
+  /**
+   * The object instances whose {@link #attributeHandle1} was divested when each save was saved.
+   */
+  private final Map<String, Set<ObjectInstanceHandle>> savedDivestedObjectInstanceHandles =
+    new HashMap<String, Set<ObjectInstanceHandle>>();
+
+  private final Set<ObjectInstanceHandle> liveObjectInstanceHandles = new HashSet<ObjectInstanceHandle>();
+  private final Set<ObjectInstanceHandle> divestedObjectInstanceHandles = new HashSet<ObjectInstanceHandle>();
+
+  public ObjectDeltaPersistenceTestNG()
+  {
+    super(2, FEDERATION_NAME);
+  }
+
+  @BeforeClass
+  public void setup()
+    throws Exception
+  {
+    // read by an embedded RTI when each save is requested
+    //
+    System.setProperty(String.format(
+      FederationExecutionSave.OHLA_RTI_FEDERATION_SAVE_DELTA_PROPERTY_FORMAT, FEDERATION_NAME), "true");
+    System.setProperty(String.format(
+      FederationExecutionSave.OHLA_RTI_FEDERATION_SAVE_COMPACT_AFTER_PROPERTY_FORMAT, FEDERATION_NAME),
+                       Integer.toString(COMPACT_AFTER));
+
+    connect();
+    createFederationExecution();
+    joinFederationExecution();
+
+    testObjectClassHandle = rtiAmbassadors.get(0).getObjectClassHandle(TEST_OBJECT);
+    attributeHandle1 = rtiAmbassadors.get(0).getAttributeHandle(testObjectClassHandle, ATTRIBUTE1);
+    attributeHandle2 = rtiAmbassadors.get(0).getAttributeHandle(testObjectClassHandle, ATTRIBUTE2);
+
+    testObjectAttributeHandles = rtiAmbassadors.get(0).getAttributeHandleSetFactory().create();
+    testObjectAttributeHandles.add(attributeHandle1);
+    testObjectAttributeHandles.add(attributeHandle2);
+
+    rtiAmbassadors.get(0).publishObjectClassAttributes(testObjectClassHandle, testObjectAttributeHandles);
+    rtiAmbassadors.get(1).subscribeObjectClassAttributes(testObjectClassHandle, testObjectAttributeHandles);
+
+    for (int i = 0; i < OBJECT_INSTANCE_COUNT; i++)
+    {
+      register();
+    }
+
+    synchronize(SYNCHRONIZATION_POINT_SETUP_COMPLETE, federateAmbassadors);
+
+    // a full save, the saves after it are deltas of the save before them
+    //
+    save(0);
+
+    divest(0);
+    delete(1);
+    save(1);
+
+    // deletes an object instance modified since the full save
+    //
+    divest(2);
+    delete(0);
+    save(2);
+
+    // modifies and deletes an object instance between the same saves, the chain is compacted after this save
+    //
+    divest(3);
+    delete(3);
+    divest(4);
+    save(3);
+
+    // saved while the previous save might still be compacting
+    //
+    delete(4);
+    divest(5);
+    save(4);
+
+    divest(6);
+    delete(5);
+    save(5);
+
+    // registers an object instance in a delta, the chain is compacted again after this save
+    //
+    delete(6);
+    register();
+    save(6);
+
+    // replaces the base of a delta save with a full save under the same label, the delta can no longer be restored
+    //
+    save(7);
+    save(8);
+
+    // forget the first save under the label
+    //
+    for (TestFederateAmbassador testFederateAmbassador : federateAmbassadors)
+    {
+      testFederateAmbassador.reset();
+    }
+
+    save(7);
+  }
+
+  @AfterClass
+  public void teardown()
+    throws Exception
+  {
+    resignFederationExecution(ResignAction.UNCONDITIONALLY_DIVEST_ATTRIBUTES);
+    destroyFederationExecution();
+    disconnect();
+
+    System.clearProperty(String.format(
+      FederationExecutionSave.OHLA_RTI_FEDERATION_SAVE_DELTA_PROPERTY_FORMAT, FEDERATION_NAME));
+    System.clearProperty(String.format(
+      FederationExecutionSave.OHLA_RTI_FEDERATION_SAVE_COMPACT_AFTER_PROPERTY_FORMAT, FEDERATION_NAME));
+  }
+
+  @Test
+  public void testRestoreDeltaSave()
+    throws Exception
+  {
+    restore(2);
+  }
+
+  @Test
+  public void testRestoreCompactedSave()
+    throws Exception
+  {
+    restore(3);
+  }
+
+  @Test
+  public void testRestoreDeltaOfCompactedSave()
+    throws Exception
+  {
+    restore(5);
+  }
+
+  @Test
+  public void testRestoreLastSave()
+    throws Exception
+  {
+    restore(6);
+  }
+
+  @Test
+  public void testRestoreFullSave()
+    throws Exception
+  {
+    restore(0);
+  }
+
+  @Test
+  public void testRestoreDeltaOfReplacedSave()
+    throws Exception
+  {
+    String saveName = getSaveName(8);
+
+    rtiAmbassadors.get(0).requestFederationRestore(saveName);
+
+    federateAmbassadors.get(0).checkRequestFederationRestoreFailed(saveName);
+  }
+
+  protected TestFederateAmbassador createFederateAmbassador(RTIambassador rtiAmbassador)
+  {
+    return new TestFederateAmbassador(rtiAmbassador);
+  }
+
+  private static String getSaveName(int save)
+  {
+    return SAVE_NAME + save;
+  }
+
+  private void register()
+    throws Exception
+  {
+    ObjectInstanceHandle objectInstanceHandle = rtiAmbassadors.get(0).registerObjectInstance(testObjectClassHandle);
+
+    objectInstanceHandles.add(objectInstanceHandle);
+    liveObjectInstanceHandles.add(objectInstanceHandle);
+
+    // ensure the object arrives
+    //
+    federateAmbassadors.get(1).checkObjectInstanceHandle(objectInstanceHandle);
+  }
+
+  private void divest(int objectInstance)
+    throws Exception
+  {
+    ObjectInstanceHandle objectInstanceHandle = objectInstanceHandles.get(objectInstance);
+
+    AttributeHandleSet attributeHandles = rtiAmbassadors.get(0).getAttributeHandleSetFactory().create();
+    attributeHandles.add(attributeHandle1);
+
+    rtiAmbassadors.get(0).unconditionalAttributeOwnershipDivestiture(objectInstanceHandle, attributeHandles);
+
+    divestedObjectInstanceHandles.add(objectInstanceHandle);
+  }
+
+  private void delete(int objectInstance)
+    throws Exception
+  {
+    ObjectInstanceHandle objectInstanceHandle = objectInstanceHandles.get(objectInstance);
+
+    rtiAmbassadors.get(0).deleteObjectInstance(objectInstanceHandle, TAG);
+
+    liveObjectInstanceHandles.remove(objectInstanceHandle);
+    divestedObjectInstanceHandles.remove(objectInstanceHandle);
+  }
+
+  private void save(int save)
+    throws Exception
+  {
+    String saveName = getSaveName(save);
+
+    rtiAmbassadors.get(0).requestFederationSave(saveName);
+
+    federateAmbassadors.get(0).checkInitiateFederateSave(saveName);
+    federateAmbassadors.get(1).checkInitiateFederateSave(saveName);
+
+    rtiAmbassadors.get(0).federateSaveBegun();
+    rtiAmbassadors.get(1).federateSaveBegun();
+
+    rtiAmbassadors.get(0).federateSaveComplete();
+    rtiAmbassadors.get(1).federateSaveComplete();
+
+    federateAmbassadors.get(0).checkFederationSaved(saveName);
+    federateAmbassadors.get(1).checkFederationSaved(saveName);
+
+    savedObjectInstanceHandles.put(saveName, new HashSet<ObjectInstanceHandle>(liveObjectInstanceHandles));
+    savedDivestedObjectInstanceHandles.put(saveName, new HashSet<ObjectInstanceHandle>(divestedObjectInstanceHandles));
+  }
+
+  private void restore(int save)
+    throws Exception
+  {
+    String saveName = getSaveName(save);
+
+    for (TestFederateAmbassador testFederateAmbassador : federateAmbassadors)
+    {
+      testFederateAmbassador.reset();
+    }
+
+    rtiAmbassadors.get(0).requestFederationRestore(saveName);
+
+    federateAmbassadors.get(0).checkRequestFederationRestoreSucceeded(saveName);
+
+    federateAmbassadors.get(0).checkInitiateFederateRestore(saveName, FEDERATE_TYPE_1, federateHandles.get(0));
+    federateAmbassadors.get(1).checkInitiateFederateRestore(saveName, FEDERATE_TYPE_2, federateHandles.get(1));
+
+    rtiAmbassadors.get(0).federateRestoreComplete();
+    rtiAmbassadors.get(1).federateRestoreComplete();
+
+    federateAmbassadors.get(0).checkFederationRestored(saveName);
+    federateAmbassadors.get(1).checkFederationRestored(saveName);
+
+    Set<ObjectInstanceHandle> savedObjectInstanceHandles = this.savedObjectInstanceHandles.get(saveName);
+    Set<ObjectInstanceHandle> savedDivestedObjectInstanceHandles = this.savedDivestedObjectInstanceHandles.get(saveName);
+
+    AttributeHandleSet attributeHandles = rtiAmbassadors.get(1).getAttributeHandleSetFactory().create();
+    attributeHandles.add(attributeHandle2);
+
+    // the RTI asks the owner to provide every object instance of the class it restored, the request for the object
+    // instance that is never deleted is provided after all of them
+    //
+    rtiAmbassadors.get(1).requestAttributeValueUpdate(testObjectClassHandle, attributeHandles, TAG);
+    rtiAmbassadors.get(1).requestAttributeValueUpdate(
+      objectInstanceHandles.get(OBJECT_INSTANCE_COUNT - 1), attributeHandles, END_TAG);
+
+    federateAmbassadors.get(0).checkProvideAttributeValueUpdate(
+      objectInstanceHandles.get(OBJECT_INSTANCE_COUNT - 1), END_TAG);
+
+    assert savedObjectInstanceHandles.equals(federateAmbassadors.get(0).getProvidedObjectInstanceHandles(TAG)) :
+      federateAmbassadors.get(0).getProvidedObjectInstanceHandles(TAG);
+
+    for (ObjectInstanceHandle objectInstanceHandle : savedObjectInstanceHandles)
+    {
+      rtiAmbassadors.get(1).queryAttributeOwnership(objectInstanceHandle, attributeHandle1);
+    }
+
+    for (ObjectInstanceHandle objectInstanceHandle : savedObjectInstanceHandles)
+    {
+      if (savedDivestedObjectInstanceHandles.contains(objectInstanceHandle))
+      {
+        federateAmbassadors.get(1).checkAttributeIsUnowned(objectInstanceHandle);
+      }
+      else
+      {
+        federateAmbassadors.get(1).checkAttributeIsOwnedByFederate(objectInstanceHandle, federateHandles.get(0));
+      }
+    }
+  }
+
+  public static class TestFederateAmbassador
+    extends BaseFederateAmbassador
+  {
+    /**
+     * The owner of the queried attribute of each discovered object instance, {@code Boolean.FALSE} if unowned.
+     */
+    private final Map<ObjectInstanceHandle, Object> objectInstances = new HashMap<ObjectInstanceHandle, Object>();
+
+    /**
+     * The object instances asked to be provided, by tag.
+     */
+    private final Map<String, Set<ObjectInstanceHandle>> providedObjectInstanceHandles =
+      new HashMap<String, Set<ObjectInstanceHandle>>();
+
+    public TestFederateAmbassador(RTIambassador rtiAmbassador)
+    {
+      super(rtiAmbassador);
+    }
+
+    public Set<ObjectInstanceHandle> getProvidedObjectInstanceHandles(byte[] tag)
+    {
+      Set<ObjectInstanceHandle> objectInstanceHandles = providedObjectInstanceHandles.get(new String(tag));
+      return objectInstanceHandles == null ? Collections.<ObjectInstanceHandle>emptySet() : objectInstanceHandles;
+    }
+
+    public void checkObjectInstanceHandle(final ObjectInstanceHandle objectInstanceHandle)
+      throws Exception
+    {
+      evokeCallbackWhile(new Callable<Boolean>()
+      {
+        public Boolean call()
+        {
+          return !objectInstances.containsKey(objectInstanceHandle);
+        }
+      });
+
+      assert objectInstances.containsKey(objectInstanceHandle);
+    }
+
+    public void checkProvideAttributeValueUpdate(final ObjectInstanceHandle objectInstanceHandle, final byte[] tag)
+      throws Exception
+    {
+      evokeCallbackWhile(new Callable<Boolean>()
+      {
+        public Boolean call()
+        {
+          return !getProvidedObjectInstanceHandles(tag).contains(objectInstanceHandle);
+        }
+      }, OBJECT_INSTANCE_COUNT * 2);
+
+      assert getProvidedObjectInstanceHandles(tag).contains(objectInstanceHandle);
+    }
+
+    public void checkAttributeIsOwnedByFederate(
+      final ObjectInstanceHandle objectInstanceHandle, FederateHandle federateHandle)
+      throws Exception
+    {
+      evokeCallbackWhile(new Callable<Boolean>()
+      {
+        public Boolean call()
+        {
+          return objectInstances.get(objectInstanceHandle) == null;
+        }
+      });
+
+      assert federateHandle.equals(objectInstances.get(objectInstanceHandle));
+    }
+
+    public void checkAttributeIsUnowned(final ObjectInstanceHandle objectInstanceHandle)
+      throws Exception
+    {
+      evokeCallbackWhile(new Callable<Boolean>()
+      {
+        public Boolean call()
+        {
+          return objectInstances.get(objectInstanceHandle) == null;
+        }
+      });
+
+      assert Boolean.FALSE.equals(objectInstances.get(objectInstanceHandle));
+    }
+
+    @Override
+    public void reset()
+    {
+      super.reset();
+
+      // the object instances stay discovered across a restore, only whether they are owned is forgotten
+      //
+      for (Map.Entry<ObjectInstanceHandle, Object> entry : objectInstances.entrySet())
+      {
+        entry.setValue(null);
+      }
+
+      providedObjectInstanceHandles.clear();
+    }
+
+    @Override
+    public void discoverObjectInstance(
+      ObjectInstanceHandle objectInstanceHandle, ObjectClassHandle objectClassHandle, String objectInstanceName,
+      FederateHandle federateHandle)
+      throws FederateInternalError
+    {
+      objectInstances.put(objectInstanceHandle, null);
+    }
+
+    @Override
+    public void provideAttributeValueUpdate(
+      ObjectInstanceHandle objectInstanceHandle, AttributeHandleSet attributeHandles, byte[] tag)
+      throws FederateInternalError
+    {
+      Set<ObjectInstanceHandle> objectInstanceHandles = providedObjectInstanceHandles.get(new String(tag));
+      if (objectInstanceHandles == null)
+      {
+        objectInstanceHandles = new HashSet<ObjectInstanceHandle>();
+        providedObjectInstanceHandles.put(new String(tag), objectInstanceHandles);
+      }
+      objectInstanceHandles.add(objectInstanceHandle);
+    }
+
+    @Override
+    public void informAttributeOwnership(
+      ObjectInstanceHandle objectInstanceHandle, AttributeHandle attributeHandle, FederateHandle federateHandle)
+      throws FederateInternalError
+    {
+      objectInstances.put(objectInstanceHandle, federateHandle);
+    }
+
+    @Override
+    public void attributeIsNotOwned(ObjectInstanceHandle objectInstanceHandle, AttributeHandle attributeHandle)
+      throws FederateInternalError
+    {
+      objectInstances.put(objectInstanceHandle, Boolean.FALSE);
+    }
+  }
+}
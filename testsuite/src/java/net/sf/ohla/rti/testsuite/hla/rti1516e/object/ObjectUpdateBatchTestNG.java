@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.hla.rti1516e.object;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eRTIambassador;
+import net.sf.ohla.rti.testsuite.hla.rti1516e.BaseFederateAmbassador;
+import net.sf.ohla.rti.testsuite.hla.rti1516e.BaseTestNG;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import hla.rti1516e.AttributeHandle;
+import hla.rti1516e.AttributeHandleSet;
+import hla.rti1516e.AttributeHandleValueMap;
+import hla.rti1516e.FederateHandle;
+import hla.rti1516e.ObjectClassHandle;
+import hla.rti1516e.ObjectInstanceHandle;
+import hla.rti1516e.OrderType;
+import hla.rti1516e.RTIambassador;
+import hla.rti1516e.ResignAction;
+import hla.rti1516e.TransportationTypeHandle;
+import hla.rti1516e.exceptions.AttributeNotOwned;
+import hla.rti1516e.exceptions.FederateInternalError;
+import hla.rti1516e.exceptions.ObjectInstanceNotKnown;
+
+/**
+ * Tests the OHLA extension that updates the attribute values of many object instances at once.
+ */
+@Test
+public class ObjectUpdateBatchTestNG
+  extends BaseTestNG<ObjectUpdateBatchTestNG.TestFederateAmbassador>
+{
+  private static final String FEDERATION_NAME = ObjectUpdateBatchTestNG.class.getSimpleName();
+
+  private static final byte[] BATCH_TAG = "BATCH_TAG".getBytes();
+  private static final byte[] BATCH_TAG2 = "BATCH_TAG2".getBytes();
+  private static final byte[] BATCH_TAG3 = "BATCH_TAG3".getBytes();
+  private static final byte[] BATCH_TAG4 = "BATCH_TAG4".getBytes();
+  private static final byte[] END_TAG = "END_TAG".getBytes();
+
+  private static final String BEST_EFFORT_RECEIVE_ATTRIBUTE = "BestEffortReceiveAttribute";
+  private static final String RELIABLE_RECEIVE_ATTRIBUTE = "ReliableReceiveAttribute";
+
+  private AttributeHandleValueMap testObjectAttributeValues;
+  private AttributeHandleValueMap testObjectAttributeValues2;
+  private AttributeHandleValueMap bestEffortAttributeValues;
+
+  private ObjectClassHandle testObjectClassHandle;
+  private AttributeHandle attributeHandle1;
+  private AttributeHandle attributeHandle2;
+
+  private TransportationTypeHandle reliableTransportationTypeHandle;
+  private TransportationTypeHandle bestEffortTransportationTypeHandle;
+
+  private ObjectInstanceHandle testObjectInstanceHandle;
+  private ObjectInstanceHandle testObjectInstanceHandle2;
+  private ObjectInstanceHandle testObjectInstanceHandle3;
+
+  public ObjectUpdateBatchTestNG()
+  {
+    super(3, FEDERATION_NAME);
+  }
+
+  @BeforeClass
+  public void setup()
+    throws Exception
+  {
+    connect();
+    createFederationExecution();
+    joinFederationExecution();
+
+    testObjectClassHandle = rtiAmbassadors.get(0).getObjectClassHandle(TEST_OBJECT);
+    attributeHandle1 = rtiAmbassadors.get(0).getAttributeHandle(testObjectClassHandle, ATTRIBUTE1);
+    attributeHandle2 = rtiAmbassadors.get(0).getAttributeHandle(testObjectClassHandle, ATTRIBUTE2);
+    AttributeHandle attributeHandle3 = rtiAmbassadors.get(0).getAttributeHandle(testObjectClassHandle, ATTRIBUTE3);
+    AttributeHandle bestEffortAttributeHandle =
+      rtiAmbassadors.get(0).getAttributeHandle(testObjectClassHandle, BEST_EFFORT_RECEIVE_ATTRIBUTE);
+    AttributeHandleSet testObjectAttributeHandles = rtiAmbassadors.get(0).getAttributeHandleSetFactory().create();
+    testObjectAttributeHandles.add(attributeHandle1);
+    testObjectAttributeHandles.add(attributeHandle2);
+    testObjectAttributeHandles.add(attributeHandle3);
+    testObjectAttributeHandles.add(bestEffortAttributeHandle);
+
+    ObjectClassHandle testObjectClassHandle2 = rtiAmbassadors.get(0).getObjectClassHandle(TEST_OBJECT2);
+    AttributeHandle attributeHandle4 = rtiAmbassadors.get(0).getAttributeHandle(testObjectClassHandle2, ATTRIBUTE4);
+    AttributeHandle attributeHandle5 = rtiAmbassadors.get(0).getAttributeHandle(testObjectClassHandle2, ATTRIBUTE5);
+    AttributeHandle attributeHandle6 = rtiAmbassadors.get(0).getAttributeHandle(testObjectClassHandle2, ATTRIBUTE6);
+    AttributeHandleSet testObjectAttributeHandles2 = rtiAmbassadors.get(0).getAttributeHandleSetFactory().create();
+    testObjectAttributeHandles2.add(attributeHandle1);
+    testObjectAttributeHandles2.add(attributeHandle2);
+    testObjectAttributeHandles2.add(attributeHandle3);
+    testObjectAttributeHandles2.add(attributeHandle4);
+    testObjectAttributeHandles2.add(attributeHandle5);
+    testObjectAttributeHandles2.add(attributeHandle6);
+
+    testObjectAttributeValues = rtiAmbassadors.get(0).getAttributeHandleValueMapFactory().create(3);
+    testObjectAttributeValues2 = rtiAmbassadors.get(0).getAttributeHandleValueMapFactory().create(3);
+
+    testObjectAttributeValues.put(attributeHandle1, ATTRIBUTE1_VALUE.getBytes());
+    testObjectAttributeValues.put(attributeHandle2, ATTRIBUTE2_VALUE.getBytes());
+    testObjectAttributeValues.put(attributeHandle3, ATTRIBUTE3_VALUE.getBytes());
+
+    testObjectAttributeValues2.put(attributeHandle1, ATTRIBUTE1_VALUE.getBytes());
+    testObjectAttributeValues2.put(attributeHandle2, ATTRIBUTE2_VALUE.getBytes());
+    testObjectAttributeValues2.put(attributeHandle3, ATTRIBUTE3_VALUE.getBytes());
+    testObjectAttributeValues2.put(attributeHandle4, ATTRIBUTE4_VALUE.getBytes());
+    testObjectAttributeValues2.put(attributeHandle5, ATTRIBUTE5_VALUE.getBytes());
+    testObjectAttributeValues2.put(attributeHandle6, ATTRIBUTE6_VALUE.getBytes());
+
+    bestEffortAttributeValues = rtiAmbassadors.get(0).getAttributeHandleValueMapFactory().create(1);
+    bestEffortAttributeValues.put(bestEffortAttributeHandle, ATTRIBUTE1_VALUE.getBytes());
+
+    reliableTransportationTypeHandle = rtiAmbassadors.get(0).getTransportationTypeHandle(HLA_RELIABLE);
+    bestEffortTransportationTypeHandle = rtiAmbassadors.get(0).getTransportationTypeHandle(HLA_BEST_EFFORT);
+
+    rtiAmbassadors.get(0).publishObjectClassAttributes(testObjectClassHandle, testObjectAttributeHandles);
+    rtiAmbassadors.get(0).publishObjectClassAttributes(testObjectClassHandle2, testObjectAttributeHandles2);
+
+    rtiAmbassadors.get(1).subscribeObjectClassAttributes(testObjectClassHandle, testObjectAttributeHandles);
+    rtiAmbassadors.get(2).subscribeObjectClassAttributes(testObjectClassHandle2, testObjectAttributeHandles2);
+
+    testObjectInstanceHandle = rtiAmbassadors.get(0).registerObjectInstance(testObjectClassHandle);
+    testObjectInstanceHandle2 = rtiAmbassadors.get(0).registerObjectInstance(testObjectClassHandle);
+    testObjectInstanceHandle3 = rtiAmbassadors.get(0).registerObjectInstance(testObjectClassHandle2);
+
+    // ensure the objects arrive
+    //
+    federateAmbassadors.get(1).checkObjectInstanceHandle(testObjectInstanceHandle);
+    federateAmbassadors.get(1).checkObjectInstanceHandle(testObjectInstanceHandle2);
+    federateAmbassadors.get(1).checkObjectInstanceHandle(testObjectInstanceHandle3);
+    federateAmbassadors.get(2).checkObjectInstanceHandle(testObjectInstanceHandle3);
+
+    synchronize(SYNCHRONIZATION_POINT_SETUP_COMPLETE, federateAmbassadors);
+  }
+
+  @AfterClass
+  public void teardown()
+    throws Exception
+  {
+    resignFederationExecution(ResignAction.UNCONDITIONALLY_DIVEST_ATTRIBUTES);
+    destroyFederationExecution();
+    disconnect();
+  }
+
+  @Test
+  public void testUpdateAttributeValuesBatch()
+    throws Exception
+  {
+    Map<ObjectInstanceHandle, AttributeHandleValueMap> attributeValues = new LinkedHashMap<>();
+    attributeValues.put(testObjectInstanceHandle, testObjectAttributeValues);
+    attributeValues.put(testObjectInstanceHandle2, testObjectAttributeValues);
+    attributeValues.put(testObjectInstanceHandle3, testObjectAttributeValues2);
+
+    ((IEEE1516eRTIambassador) rtiAmbassadors.get(0)).updateAttributeValues(attributeValues, BATCH_TAG);
+
+    federateAmbassadors.get(1).checkAttributeValues(
+      testObjectInstanceHandle, testObjectAttributeValues, federateHandles.get(0), BATCH_TAG);
+    federateAmbassadors.get(1).checkAttributeValues(
+      testObjectInstanceHandle2, testObjectAttributeValues, federateHandles.get(0), BATCH_TAG);
+    federateAmbassadors.get(1).checkAttributeValues(
+      testObjectInstanceHandle3, testObjectAttributeValues, federateHandles.get(0), BATCH_TAG);
+    federateAmbassadors.get(2).checkAttributeValues(
+      testObjectInstanceHandle3, testObjectAttributeValues2, federateHandles.get(0), BATCH_TAG);
+  }
+
+  @Test(dependsOnMethods = "testUpdateAttributeValuesBatch")
+  public void testUpdateAttributeValuesBatchOfOneObjectInstance()
+    throws Exception
+  {
+    Map<ObjectInstanceHandle, AttributeHandleValueMap> attributeValues = new LinkedHashMap<>();
+    attributeValues.put(testObjectInstanceHandle3, testObjectAttributeValues2);
+
+    ((IEEE1516eRTIambassador) rtiAmbassadors.get(0)).updateAttributeValues(attributeValues, BATCH_TAG2);
+
+    federateAmbassadors.get(1).checkAttributeValues(
+      testObjectInstanceHandle3, testObjectAttributeValues, federateHandles.get(0), BATCH_TAG2);
+    federateAmbassadors.get(2).checkAttributeValues(
+      testObjectInstanceHandle3, testObjectAttributeValues2, federateHandles.get(0), BATCH_TAG2);
+  }
+
+  @Test(dependsOnMethods = "testUpdateAttributeValuesBatchOfOneObjectInstance")
+  public void testUpdateAttributeValuesBatchWithBestEffortUpdate()
+    throws Exception
+  {
+    Map<ObjectInstanceHandle, AttributeHandleValueMap> attributeValues = new LinkedHashMap<>();
+    attributeValues.put(testObjectInstanceHandle, bestEffortAttributeValues);
+    attributeValues.put(testObjectInstanceHandle2, testObjectAttributeValues);
+
+    ((IEEE1516eRTIambassador) rtiAmbassadors.get(0)).updateAttributeValues(attributeValues, BATCH_TAG3);
+
+    // the best effort update is sent on its own, only the reliable one is batched
+    //
+    federateAmbassadors.get(1).checkAttributeValues(
+      testObjectInstanceHandle, bestEffortAttributeValues, federateHandles.get(0), BATCH_TAG3);
+    federateAmbassadors.get(1).checkAttributeValues(
+      testObjectInstanceHandle2, testObjectAttributeValues, federateHandles.get(0), BATCH_TAG3);
+
+    federateAmbassadors.get(1).checkTransportationTypeHandle(
+      testObjectInstanceHandle, bestEffortTransportationTypeHandle);
+    federateAmbassadors.get(1).checkTransportationTypeHandle(
+      testObjectInstanceHandle2, reliableTransportationTypeHandle);
+  }
+
+  @Test(dependsOnMethods = "testUpdateAttributeValuesBatchWithBestEffortUpdate")
+  public void testUpdateAttributeValuesBatchWhileDivesting()
+    throws Exception
+  {
+    ObjectInstanceHandle objectInstanceHandle = rtiAmbassadors.get(0).registerObjectInstance(testObjectClassHandle);
+
+    federateAmbassadors.get(1).checkObjectInstanceHandle(objectInstanceHandle);
+
+    AttributeHandleSet attributeHandles = rtiAmbassadors.get(1).getAttributeHandleSetFactory().create();
+    attributeHandles.add(attributeHandle1);
+
+    // the second federate is waiting for the attribute when it is divested, so it is handed over at once
+    //
+    rtiAmbassadors.get(1).publishObjectClassAttributes(testObjectClassHandle, attributeHandles);
+    rtiAmbassadors.get(1).attributeOwnershipAcquisition(objectInstanceHandle, attributeHandles, null);
+
+    federateAmbassadors.get(0).checkAttributeOwnershipReleaseRequested(objectInstanceHandle);
+
+    // object instances that lengthen the batch after the divested object instance, their unsubscribed attribute is
+    // never reflected
+    //
+    AttributeHandle unsubscribedAttributeHandle =
+      rtiAmbassadors.get(0).getAttributeHandle(testObjectClassHandle, RELIABLE_RECEIVE_ATTRIBUTE);
+    AttributeHandleSet unsubscribedAttributeHandles = rtiAmbassadors.get(0).getAttributeHandleSetFactory().create();
+    unsubscribedAttributeHandles.add(unsubscribedAttributeHandle);
+    rtiAmbassadors.get(0).publishObjectClassAttributes(testObjectClassHandle, unsubscribedAttributeHandles);
+
+    AttributeHandleValueMap unsubscribedAttributeValues =
+      rtiAmbassadors.get(0).getAttributeHandleValueMapFactory().create(1);
+    unsubscribedAttributeValues.put(unsubscribedAttributeHandle, ATTRIBUTE1_VALUE.getBytes());
+
+    final Map<ObjectInstanceHandle, AttributeHandleValueMap> attributeValues = new LinkedHashMap<>();
+    attributeValues.put(objectInstanceHandle, testObjectAttributeValues);
+    for (int i = 0; i < 100; i++)
+    {
+      attributeValues.put(rtiAmbassadors.get(0).registerObjectInstance(testObjectClassHandle),
+                          unsubscribedAttributeValues);
+    }
+
+    // keep updating the object instance in batches until the attribute has been divested
+    //
+    final CountDownLatch updating = new CountDownLatch(1);
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try
+    {
+      Future<Integer> updates = executorService.submit(new Callable<Integer>()
+      {
+        public Integer call()
+          throws Exception
+        {
+          int updates = 0;
+          try
+          {
+            while (true)
+            {
+              ((IEEE1516eRTIambassador) rtiAmbassadors.get(0)).updateAttributeValues(attributeValues, BATCH_TAG4);
+              updates++;
+
+              updating.countDown();
+            }
+          }
+          catch (AttributeNotOwned ano)
+          {
+            return updates;
+          }
+        }
+      });
+
+      updating.await(5, TimeUnit.SECONDS);
+
+      rtiAmbassadors.get(0).unconditionalAttributeOwnershipDivestiture(objectInstanceHandle, attributeHandles);
+
+      assert updates.get(5, TimeUnit.SECONDS) > 0;
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+
+    federateAmbassadors.get(1).checkAttributesAcquired(attributeHandles);
+
+    // everything the first federate sent before this update has been reflected once it arrives
+    //
+    AttributeHandleValueMap endAttributeValues = rtiAmbassadors.get(0).getAttributeHandleValueMapFactory().create(1);
+    endAttributeValues.put(attributeHandle2, ATTRIBUTE2_VALUE.getBytes());
+    rtiAmbassadors.get(0).updateAttributeValues(objectInstanceHandle, endAttributeValues, END_TAG);
+
+    federateAmbassadors.get(1).checkAttributeUpdated(objectInstanceHandle, END_TAG);
+
+    // no update of the divested attribute may be reflected after it has been acquired
+    //
+    federateAmbassadors.get(1).checkNotUpdatedSinceAcquired(objectInstanceHandle, attributeHandle1);
+  }
+
+  @Test(expectedExceptions = ObjectInstanceNotKnown.class)
+  public void testUpdateAttributeValuesBatchWithNullObjectInstanceHandle()
+    throws Exception
+  {
+    Map<ObjectInstanceHandle, AttributeHandleValueMap> attributeValues = new HashMap<>();
+    attributeValues.put(null, testObjectAttributeValues);
+
+    ((IEEE1516eRTIambassador) rtiAmbassadors.get(0)).updateAttributeValues(attributeValues, null);
+  }
+
+  @Test(expectedExceptions = AttributeNotOwned.class)
+  public void testUpdateAttributeValuesBatchOfUnownedAttributes()
+    throws Exception
+  {
+    Map<ObjectInstanceHandle, AttributeHandleValueMap> attributeValues = new LinkedHashMap<>();
+    attributeValues.put(testObjectInstanceHandle, testObjectAttributeValues);
+    attributeValues.put(testObjectInstanceHandle2, testObjectAttributeValues);
+
+    ((IEEE1516eRTIambassador) rtiAmbassadors.get(1)).updateAttributeValues(attributeValues, null);
+  }
+
+  protected TestFederateAmbassador createFederateAmbassador(RTIambassador rtiAmbassador)
+  {
+    return new TestFederateAmbassador(rtiAmbassador);
+  }
+
+  public static class TestFederateAmbassador
+    extends BaseFederateAmbassador
+  {
+    private final Map<ObjectInstanceHandle, TestObjectInstance> objectInstances =
+      new HashMap<ObjectInstanceHandle, TestObjectInstance>();
+    private final Map<ObjectInstanceHandle, TransportationTypeHandle> transportationTypeHandles =
+      new HashMap<ObjectInstanceHandle, TransportationTypeHandle>();
+    private final Map<ObjectInstanceHandle, Map<AttributeHandle, List<FederateHandle>>> updatingFederateHandles =
+      new HashMap<ObjectInstanceHandle, Map<AttributeHandle, List<FederateHandle>>>();
+
+    private ObjectInstanceHandle releaseRequestedObjectInstanceHandle;
+    private AttributeHandleSet acquiredAttributeHandles;
+    private int updatesBeforeAcquired;
+
+    public TestFederateAmbassador(RTIambassador rtiAmbassador)
+    {
+      super(rtiAmbassador);
+    }
+
+    public void checkObjectInstanceHandle(final ObjectInstanceHandle objectInstanceHandle)
+      throws Exception
+    {
+      evokeCallbackWhile(new Callable<Boolean>() { public Boolean call() { return !objectInstances.containsKey(objectInstanceHandle); } });
+
+      assert objectInstances.containsKey(objectInstanceHandle);
+    }
+
+    public void checkAttributeValues(
+      final ObjectInstanceHandle objectInstanceHandle, AttributeHandleValueMap attributeValues,
+      FederateHandle federateHandle, final byte[] tag)
+      throws Exception
+    {
+      evokeCallbackWhile(new Callable<Boolean>() { public Boolean call() { return !Arrays.equals(tag, objectInstances.get(objectInstanceHandle).getTag()); } });
+
+      TestObjectInstance objectInstance = objectInstances.get(objectInstanceHandle);
+      assert objectInstance != null;
+      assert objectInstance.getAttributeValues() != null;
+      assert objectInstance.getAttributeValues().equals(attributeValues);
+      assert Arrays.equals(tag, objectInstance.getTag());
+      assert objectInstance.getUpdatingFederateHandle().equals(federateHandle);
+    }
+
+    public void checkAttributeOwnershipReleaseRequested(final ObjectInstanceHandle objectInstanceHandle)
+      throws Exception
+    {
+      evokeCallbackWhile(new Callable<Boolean>() { public Boolean call() { return !objectInstanceHandle.equals(releaseRequestedObjectInstanceHandle); } });
+
+      assert objectInstanceHandle.equals(releaseRequestedObjectInstanceHandle);
+    }
+
+    public void checkAttributesAcquired(AttributeHandleSet attributeHandles)
+      throws Exception
+    {
+      evokeMultipleCallbacksWhile(new Callable<Boolean>() { public Boolean call() { return acquiredAttributeHandles == null; } });
+
+      assert attributeHandles.equals(acquiredAttributeHandles);
+    }
+
+    public void checkAttributeUpdated(final ObjectInstanceHandle objectInstanceHandle, final byte[] tag)
+      throws Exception
+    {
+      evokeMultipleCallbacksWhile(new Callable<Boolean>() { public Boolean call() { return !Arrays.equals(tag, objectInstances.get(objectInstanceHandle).getTag()); } });
+
+      assert Arrays.equals(tag, objectInstances.get(objectInstanceHandle).getTag());
+    }
+
+    public void checkNotUpdatedSinceAcquired(ObjectInstanceHandle objectInstanceHandle, AttributeHandle attributeHandle)
+    {
+      List<FederateHandle> federateHandles = getUpdatingFederateHandles(objectInstanceHandle, attributeHandle);
+      assert federateHandles.size() == updatesBeforeAcquired :
+        federateHandles.subList(updatesBeforeAcquired, federateHandles.size());
+    }
+
+    public List<FederateHandle> getUpdatingFederateHandles(
+      ObjectInstanceHandle objectInstanceHandle, AttributeHandle attributeHandle)
+    {
+      Map<AttributeHandle, List<FederateHandle>> attributeUpdatingFederateHandles =
+        updatingFederateHandles.get(objectInstanceHandle);
+      List<FederateHandle> federateHandles =
+        attributeUpdatingFederateHandles == null ? null : attributeUpdatingFederateHandles.get(attributeHandle);
+      return federateHandles == null ? new ArrayList<FederateHandle>() : federateHandles;
+    }
+
+    /**
+     * Evokes the callbacks queued by the concurrent batches many at a time.
+     */
+    private void evokeMultipleCallbacksWhile(Callable<Boolean> test)
+      throws Exception
+    {
+      for (int count = 50; count > 0 && test.call(); count--)
+      {
+        rtiAmbassador.evokeMultipleCallbacks(0.1, 1.0);
+      }
+    }
+
+    public void checkTransportationTypeHandle(
+      ObjectInstanceHandle objectInstanceHandle, TransportationTypeHandle transportationTypeHandle)
+    {
+      assert transportationTypeHandle.equals(transportationTypeHandles.get(objectInstanceHandle)) :
+        transportationTypeHandles.get(objectInstanceHandle);
+    }
+
+    @Override
+    public void discoverObjectInstance(
+      ObjectInstanceHandle objectInstanceHandle, ObjectClassHandle objectClassHandle, String objectInstanceName,
+      FederateHandle federateHandle)
+      throws FederateInternalError
+    {
+      objectInstances.put(objectInstanceHandle, new TestObjectInstance(
+        objectInstanceHandle, objectClassHandle, objectInstanceName, federateHandle));
+    }
+
+    @Override
+    public void reflectAttributeValues(
+      ObjectInstanceHandle objectInstanceHandle, AttributeHandleValueMap attributeValues,
+      byte[] tag, OrderType sentOrderType, TransportationTypeHandle transportationTypeHandle,
+      SupplementalReflectInfo reflectInfo)
+      throws FederateInternalError
+    {
+      objectInstances.get(objectInstanceHandle).setAttributeValues(attributeValues, tag, null, reflectInfo);
+      transportationTypeHandles.put(objectInstanceHandle, transportationTypeHandle);
+
+      Map<AttributeHandle, List<FederateHandle>> attributeUpdatingFederateHandles =
+        updatingFederateHandles.get(objectInstanceHandle);
+      if (attributeUpdatingFederateHandles == null)
+      {
+        attributeUpdatingFederateHandles = new HashMap<AttributeHandle, List<FederateHandle>>();
+        updatingFederateHandles.put(objectInstanceHandle, attributeUpdatingFederateHandles);
+      }
+      for (AttributeHandle attributeHandle : attributeValues.keySet())
+      {
+        List<FederateHandle> federateHandles = attributeUpdatingFederateHandles.get(attributeHandle);
+        if (federateHandles == null)
+        {
+          federateHandles = new ArrayList<FederateHandle>();
+          attributeUpdatingFederateHandles.put(attributeHandle, federateHandles);
+        }
+        federateHandles.add(reflectInfo.getProducingFederate());
+      }
+    }
+
+    @Override
+    public void attributeOwnershipAcquisitionNotification(
+      ObjectInstanceHandle objectInstanceHandle, AttributeHandleSet attributeHandles, byte[] tag)
+      throws FederateInternalError
+    {
+      acquiredAttributeHandles = attributeHandles;
+      updatesBeforeAcquired = getUpdatingFederateHandles(objectInstanceHandle, attributeHandles.iterator().next()).size();
+    }
+
+    @Override
+    public void requestAttributeOwnershipRelease(
+      ObjectInstanceHandle objectInstanceHandle, AttributeHandleSet attributeHandles, byte[] tag)
+      throws FederateInternalError
+    {
+      releaseRequestedObjectInstanceHandle = objectInstanceHandle;
+    }
+  }
+}
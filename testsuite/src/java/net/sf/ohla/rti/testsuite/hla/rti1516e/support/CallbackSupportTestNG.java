@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.hla.rti1516e.support;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.ohla.rti.federate.CallbackMetrics;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eRTIambassador;
+
+import org.testng.annotations.Test;
+
+@Test
+public class CallbackSupportTestNG
+  extends BaseSupportTestNG
+{
+  private static final String FEDERATION_NAME = CallbackSupportTestNG.class.getSimpleName();
+
+  public CallbackSupportTestNG()
+  {
+    super(FEDERATION_NAME);
+  }
+
+  @Test
+  public void testEvokeMultipleCallbacksWaitsForMinimumTime()
+    throws Exception
+  {
+    rtiAmbassadors.get(0).registerFederationSynchronizationPoint(SYNCHRONIZATION_POINT_2, null);
+    waitForQueueDepth(2);
+
+    // keeps waiting for more callbacks after evoking the ones queued
+    //
+    long start = System.nanoTime();
+
+    assert !rtiAmbassadors.get(0).evokeMultipleCallbacks(0.5, 1.0);
+
+    long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    assert elapsed >= 450L : elapsed;
+  }
+
+  @Test
+  public void testEvokeMultipleCallbacksKeepsInterrupt()
+    throws Exception
+  {
+    Thread.currentThread().interrupt();
+
+    long start = System.nanoTime();
+
+    rtiAmbassadors.get(0).evokeMultipleCallbacks(5.0, 10.0);
+
+    long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    // clears the interrupt
+    //
+    assert Thread.interrupted();
+    assert elapsed < 5000L : elapsed;
+  }
+
+  @Test(dependsOnMethods = {
+    "testEvokeMultipleCallbacksWaitsForMinimumTime", "testEvokeMultipleCallbacksKeepsInterrupt" })
+  public void testCallbackMetrics()
+    throws Exception
+  {
+    IEEE1516eRTIambassador rtiAmbassador = (IEEE1516eRTIambassador) rtiAmbassadors.get(0);
+
+    long callbacksEvoked = rtiAmbassador.getCallbackMetrics().getCallbacksEvoked();
+
+    // registration succeeded and announce
+    //
+    rtiAmbassador.registerFederationSynchronizationPoint(SYNCHRONIZATION_POINT_1, null);
+
+    waitForQueueDepth(2);
+
+    rtiAmbassador.evokeMultipleCallbacks(0.1, 1.0);
+
+    CallbackMetrics callbackMetrics = rtiAmbassador.getCallbackMetrics();
+    assert callbackMetrics.getQueueDepth() == 0 : callbackMetrics;
+    assert callbackMetrics.getMaxQueueDepth() >= 2 : callbackMetrics;
+    assert callbackMetrics.getCallbacksEvoked() == callbacksEvoked + 2 : callbackMetrics;
+    assert callbackMetrics.getMaxCallbackLatency() > 0L : callbackMetrics;
+    assert callbackMetrics.getAverageCallbackLatency() <= callbackMetrics.getMaxCallbackLatency() : callbackMetrics;
+  }
+
+  private void waitForQueueDepth(int queueDepth)
+    throws Exception
+  {
+    IEEE1516eRTIambassador rtiAmbassador = (IEEE1516eRTIambassador) rtiAmbassadors.get(0);
+
+    long expiration = System.currentTimeMillis() + 5000L;
+    while (rtiAmbassador.getCallbackMetrics().getQueueDepth() < queueDepth && System.currentTimeMillis() < expiration)
+    {
+      Thread.sleep(10L);
+    }
+
+    assert rtiAmbassador.getCallbackMetrics().getQueueDepth() == queueDepth;
+  }
+}
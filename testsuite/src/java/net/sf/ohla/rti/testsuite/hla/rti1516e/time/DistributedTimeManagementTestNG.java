@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.hla.rti1516e.time;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.ohla.rti.federation.FederationExecutionTimeManager;
+import net.sf.ohla.rti.testsuite.hla.rti1516e.BaseTestNG;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import hla.rti1516e.InteractionClassHandle;
+import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactoryFactory;
+import hla.rti1516e.MessageRetractionHandle;
+import hla.rti1516e.OrderType;
+import hla.rti1516e.ParameterHandleValueMap;
+import hla.rti1516e.RTIambassador;
+import hla.rti1516e.ResignAction;
+import hla.rti1516e.TransportationTypeHandle;
+import hla.rti1516e.exceptions.FederateInternalError;
+import hla.rti1516e.time.HLAinteger64Interval;
+import hla.rti1516e.time.HLAinteger64Time;
+import hla.rti1516e.time.HLAinteger64TimeFactory;
+
+/**
+ * Advances federates that grant their own time advances under distributed time management and checks that every time
+ * stamp ordered message still arrives ahead of the grants past it. Federate 0 sends, federates 1 and 2 receive, all are
+ * time regulating and time constrained.
+ * <p/>
+ * Time management is distributed for this federation execution only by
+ * {@link FederationExecutionTimeManager#OHLA_RTI_TIME_MANAGEMENT_DISTRIBUTED_PROPERTY_FORMAT}, which the tests set
+ * for the embedded RTI and {@code ant start-rti} sets for a standalone RTI.
+ */
+@Test
+public class DistributedTimeManagementTestNG
+  extends BaseTestNG<DistributedTimeManagementTestNG.TestFederateAmbassador>
+{
+  private static final String FEDERATION_NAME = DistributedTimeManagementTestNG.class.getSimpleName();
+
+  /**
+   * The number of lockstep time advances, each sending an interaction at the time advanced to.
+   */
+  private static final int STEPS = 100;
+
+  private static final String BEST_EFFORT_TIME_STAMP_INTERACTION = "BestEffortTimeStampInteraction";
+
+  /**
+   * More time stamp ordered {@code HLAbestEffort} interactions than a federate's outbound queue holds below its
+   * default high watermark, so the queue is overloaded if the receiving federates fall behind.
+   */
+  private static final int BEST_EFFORT_BURST = 20 * 1024;
+
+  private final HLAinteger64TimeFactory logicalTimeFactory =
+    LogicalTimeFactoryFactory.getLogicalTimeFactory(HLAinteger64TimeFactory.class);
+
+  private final HLAinteger64Interval lookahead1 = logicalTimeFactory.makeInterval(1L);
+  private final HLAinteger64Interval five = logicalTimeFactory.makeInterval(5L);
+  private final HLAinteger64Interval ten = logicalTimeFactory.makeInterval(10L);
+
+  private HLAinteger64Time time = logicalTimeFactory.makeInitial();
+
+  private InteractionClassHandle testInteractionClassHandle;
+  private ParameterHandleValueMap testParameterValues;
+
+  private InteractionClassHandle bestEffortInteractionClassHandle;
+  private ParameterHandleValueMap bestEffortParameterValues;
+
+  /**
+   * The times of the interactions federates 1 and 2 should have received so far.
+   */
+  private final List<HLAinteger64Time> receiveInteractionTimes = new ArrayList<HLAinteger64Time>();
+
+  public DistributedTimeManagementTestNG()
+  {
+    super(3, FEDERATION_NAME);
+  }
+
+  @BeforeClass
+  public void setup()
+    throws Exception
+  {
+    // read by an embedded RTI when the federation execution is created
+    //
+    System.setProperty(String.format(
+      FederationExecutionTimeManager.OHLA_RTI_TIME_MANAGEMENT_DISTRIBUTED_PROPERTY_FORMAT, FEDERATION_NAME), "true");
+
+    connect();
+    createFederationExecution(HLAinteger64TimeFactory.NAME);
+    joinFederationExecution();
+
+    for (int i = 0; i < rtiAmbassadorCount; i++)
+    {
+      rtiAmbassadors.get(i).enableTimeRegulation(lookahead1);
+      federateAmbassadors.get(i).checkTimeRegulationEnabled(time);
+    }
+
+    for (int i = 0; i < rtiAmbassadorCount; i++)
+    {
+      rtiAmbassadors.get(i).enableTimeConstrained();
+      federateAmbassadors.get(i).checkTimeConstrainedEnabled(time);
+    }
+
+    testInteractionClassHandle = rtiAmbassadors.get(0).getInteractionClassHandle(TEST_INTERACTION);
+
+    testParameterValues = rtiAmbassadors.get(0).getParameterHandleValueMapFactory().create(1);
+    testParameterValues.put(
+      rtiAmbassadors.get(0).getParameterHandle(testInteractionClassHandle, PARAMETER1), PARAMETER1_VALUE.getBytes());
+
+    bestEffortInteractionClassHandle =
+      rtiAmbassadors.get(0).getInteractionClassHandle(BEST_EFFORT_TIME_STAMP_INTERACTION);
+
+    bestEffortParameterValues = rtiAmbassadors.get(0).getParameterHandleValueMapFactory().create(1);
+    bestEffortParameterValues.put(
+      rtiAmbassadors.get(0).getParameterHandle(bestEffortInteractionClassHandle, PARAMETER1),
+      PARAMETER1_VALUE.getBytes());
+
+    rtiAmbassadors.get(0).publishInteractionClass(testInteractionClassHandle);
+    rtiAmbassadors.get(1).subscribeInteractionClass(testInteractionClassHandle);
+    rtiAmbassadors.get(2).subscribeInteractionClass(testInteractionClassHandle);
+
+    rtiAmbassadors.get(0).publishInteractionClass(bestEffortInteractionClassHandle);
+    rtiAmbassadors.get(1).subscribeInteractionClass(bestEffortInteractionClassHandle);
+    rtiAmbassadors.get(2).subscribeInteractionClass(bestEffortInteractionClassHandle);
+
+    synchronize(SYNCHRONIZATION_POINT_SETUP_COMPLETE, federateAmbassadors);
+  }
+
+  @AfterClass
+  public void teardown()
+    throws Exception
+  {
+    resignFederationExecution(ResignAction.NO_ACTION);
+    destroyFederationExecution();
+    disconnect();
+
+    System.clearProperty(String.format(
+      FederationExecutionTimeManager.OHLA_RTI_TIME_MANAGEMENT_DISTRIBUTED_PROPERTY_FORMAT, FEDERATION_NAME));
+  }
+
+  @Test
+  public void testLockstepTimeAdvanceRequest()
+    throws Exception
+  {
+    for (int i = 0; i < STEPS; i++)
+    {
+      time = time.add(lookahead1);
+
+      // sent at the federate's LOTS, the least time it can send at
+      //
+      rtiAmbassadors.get(0).sendInteraction(testInteractionClassHandle, testParameterValues, TAG, time);
+      receiveInteractionTimes.add(time);
+
+      for (RTIambassador rtiAmbassador : rtiAmbassadors)
+      {
+        rtiAmbassador.timeAdvanceRequest(time);
+      }
+
+      for (TestFederateAmbassador federateAmbassador : federateAmbassadors)
+      {
+        federateAmbassador.checkTimeAdvanceGrant(time);
+      }
+    }
+
+    federateAmbassadors.get(1).checkReceiveInteractionTimes(receiveInteractionTimes);
+    federateAmbassadors.get(2).checkReceiveInteractionTimes(receiveInteractionTimes);
+
+    federateAmbassadors.get(1).checkNoLateInteractions();
+    federateAmbassadors.get(2).checkNoLateInteractions();
+  }
+
+  @Test(dependsOnMethods = "testLockstepTimeAdvanceRequest")
+  public void testNextMessageRequest()
+    throws Exception
+  {
+    HLAinteger64Time messageTime = time.add(five);
+    HLAinteger64Time requestTime = time.add(ten);
+
+    rtiAmbassadors.get(0).sendInteraction(testInteractionClassHandle, testParameterValues, TAG, messageTime);
+    receiveInteractionTimes.add(messageTime);
+
+    rtiAmbassadors.get(0).timeAdvanceRequest(requestTime);
+    rtiAmbassadors.get(2).timeAdvanceRequest(requestTime);
+
+    // granted no later than the next message, which has to have arrived by then
+    //
+    rtiAmbassadors.get(1).nextMessageRequest(requestTime);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(messageTime);
+    federateAmbassadors.get(1).checkReceiveInteractionTimes(receiveInteractionTimes);
+
+    rtiAmbassadors.get(1).nextMessageRequest(requestTime);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(requestTime);
+
+    federateAmbassadors.get(0).checkTimeAdvanceGrant(requestTime);
+    federateAmbassadors.get(2).checkTimeAdvanceGrant(requestTime);
+    federateAmbassadors.get(2).checkReceiveInteractionTimes(receiveInteractionTimes);
+
+    federateAmbassadors.get(1).checkNoLateInteractions();
+    federateAmbassadors.get(2).checkNoLateInteractions();
+
+    time = requestTime;
+  }
+
+  @Test(dependsOnMethods = "testNextMessageRequest")
+  public void testRetractHeldMessage()
+    throws Exception
+  {
+    HLAinteger64Time messageTime = time.add(five);
+    HLAinteger64Time requestTime = time.add(ten);
+
+    MessageRetractionHandle messageRetractionHandle = rtiAmbassadors.get(0).sendInteraction(
+      testInteractionClassHandle, testParameterValues, TAG, messageTime).handle;
+
+    // the federates cannot be granted past the interaction before the retraction reaches them
+    //
+    rtiAmbassadors.get(0).retract(messageRetractionHandle);
+
+    for (RTIambassador rtiAmbassador : rtiAmbassadors)
+    {
+      rtiAmbassador.timeAdvanceRequest(requestTime);
+    }
+
+    for (TestFederateAmbassador federateAmbassador : federateAmbassadors)
+    {
+      federateAmbassador.checkTimeAdvanceGrant(requestTime);
+    }
+
+    // the retracted interaction was dropped before it was delivered
+    //
+    federateAmbassadors.get(1).checkReceiveInteractionTimes(receiveInteractionTimes);
+    federateAmbassadors.get(2).checkReceiveInteractionTimes(receiveInteractionTimes);
+
+    time = requestTime;
+  }
+
+  @Test(dependsOnMethods = "testRetractHeldMessage")
+  public void testBestEffortTimeStampOrderedBurst()
+    throws Exception
+  {
+    HLAinteger64Time messageTime = time.add(five);
+    HLAinteger64Time requestTime = time.add(ten);
+
+    // the outbound queue never drops or conflates time stamp ordered messages, whatever their transportation
+    //
+    for (int i = 0; i < BEST_EFFORT_BURST; i++)
+    {
+      rtiAmbassadors.get(0).sendInteraction(
+        bestEffortInteractionClassHandle, bestEffortParameterValues, TAG, messageTime);
+      receiveInteractionTimes.add(messageTime);
+    }
+
+    for (RTIambassador rtiAmbassador : rtiAmbassadors)
+    {
+      rtiAmbassador.timeAdvanceRequest(requestTime);
+    }
+
+    // every interaction is delivered ahead of the grant
+    //
+    federateAmbassadors.get(1).checkReceiveInteractionTimes(receiveInteractionTimes);
+    federateAmbassadors.get(2).checkReceiveInteractionTimes(receiveInteractionTimes);
+
+    for (TestFederateAmbassador federateAmbassador : federateAmbassadors)
+    {
+      federateAmbassador.checkTimeAdvanceGrant(requestTime);
+    }
+
+    federateAmbassadors.get(1).checkNoLateInteractions();
+    federateAmbassadors.get(2).checkNoLateInteractions();
+
+    time = requestTime;
+  }
+
+  protected TestFederateAmbassador createFederateAmbassador(RTIambassador rtiAmbassador)
+  {
+    return new TestFederateAmbassador(rtiAmbassador);
+  }
+
+  public static class TestFederateAmbassador
+    extends TimeManagementFederateAmbassador
+  {
+    private LogicalTime grantedTime;
+
+    /**
+     * The times of the time stamp ordered interactions received at or below a time the federate was already granted.
+     */
+    private final List<LogicalTime> lateInteractionTimes = new ArrayList<LogicalTime>();
+
+    public TestFederateAmbassador(RTIambassador rtiAmbassador)
+    {
+      super(rtiAmbassador);
+    }
+
+    public void checkNoLateInteractions()
+    {
+      assert lateInteractionTimes.isEmpty() : lateInteractionTimes;
+    }
+
+    @Override
+    public void timeAdvanceGrant(LogicalTime time)
+    {
+      super.timeAdvanceGrant(time);
+
+      grantedTime = time;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void receiveInteraction(
+      InteractionClassHandle interactionClassHandle, ParameterHandleValueMap parameterValues, byte[] tag,
+      OrderType sentOrderType, TransportationTypeHandle transportationTypeHandle, LogicalTime time,
+      OrderType receivedOrderType, MessageRetractionHandle messageRetractionHandle,
+      SupplementalReceiveInfo receiveInfo)
+    {
+      super.receiveInteraction(
+        interactionClassHandle, parameterValues, tag, sentOrderType, transportationTypeHandle, time, receivedOrderType,
+        messageRetractionHandle, receiveInfo);
+
+      if (grantedTime != null && time.compareTo(grantedTime) <= 0)
+      {
+        lateInteractionTimes.add(time);
+      }
+    }
+  }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.hla.rti1516e.time;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import net.sf.ohla.rti.federation.FederationExecutionTimeManager;
+import net.sf.ohla.rti.hla.rti1516e.OptimisticFederateAmbassador;
+import net.sf.ohla.rti.testsuite.hla.rti1516e.BaseTestNG;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import hla.rti1516e.AttributeHandleSet;
+import hla.rti1516e.InteractionClassHandle;
+import hla.rti1516e.LogicalTime;
+import hla.rti1516e.LogicalTimeFactoryFactory;
+import hla.rti1516e.MessageRetractionHandle;
+import hla.rti1516e.ObjectClassHandle;
+import hla.rti1516e.ParameterHandleValueMap;
+import hla.rti1516e.RTIambassador;
+import hla.rti1516e.ResignAction;
+import hla.rti1516e.exceptions.RTIinternalError;
+import hla.rti1516e.time.HLAinteger64Interval;
+import hla.rti1516e.time.HLAinteger64Time;
+import hla.rti1516e.time.HLAinteger64TimeFactory;
+
+/**
+ * Advances an optimistic federate past the messages it has yet to receive and checks that it is rolled back to receive
+ * them in order. Federate 0 sends and is only time regulating, federate 1 is optimistic, time regulating and time
+ * constrained, federate 2 receives from both and is only time constrained.
+ * <p/>
+ * Time management is optimistic for this federation execution only by
+ * {@link FederationExecutionTimeManager#OHLA_RTI_TIME_MANAGEMENT_OPTIMISTIC_PROPERTY_FORMAT}, which the tests set for
+ * the embedded RTI and {@code ant start-rti} sets for a standalone RTI.
+ */
+@Test
+public class OptimisticTimeManagementTestNG
+  extends BaseTestNG<OptimisticTimeManagementTestNG.TestFederateAmbassador>
+{
+  private static final String FEDERATION_NAME = OptimisticTimeManagementTestNG.class.getSimpleName();
+
+  private final HLAinteger64TimeFactory logicalTimeFactory =
+    LogicalTimeFactoryFactory.getLogicalTimeFactory(HLAinteger64TimeFactory.class);
+
+  private final HLAinteger64Interval lookahead1 = logicalTimeFactory.makeInterval(1L);
+
+  private final HLAinteger64Time initial = logicalTimeFactory.makeInitial();
+  private final HLAinteger64Time five = logicalTimeFactory.makeTime(5L);
+  private final HLAinteger64Time ten = logicalTimeFactory.makeTime(10L);
+  private final HLAinteger64Time eleven = logicalTimeFactory.makeTime(11L);
+  private final HLAinteger64Time twenty = logicalTimeFactory.makeTime(20L);
+  private final HLAinteger64Time twentyFive = logicalTimeFactory.makeTime(25L);
+  private final HLAinteger64Time thirty = logicalTimeFactory.makeTime(30L);
+
+  private InteractionClassHandle testInteractionClassHandle;
+  private ParameterHandleValueMap testParameterValues;
+
+  public OptimisticTimeManagementTestNG()
+  {
+    super(3, FEDERATION_NAME);
+  }
+
+  @BeforeClass
+  public void setup()
+    throws Exception
+  {
+    // read by an embedded RTI when the federation execution is created
+    //
+    System.setProperty(String.format(
+      FederationExecutionTimeManager.OHLA_RTI_TIME_MANAGEMENT_OPTIMISTIC_PROPERTY_FORMAT, FEDERATION_NAME), "true");
+
+    connect();
+    createFederationExecution(HLAinteger64TimeFactory.NAME);
+    joinFederationExecution();
+
+    rtiAmbassadors.get(0).enableTimeRegulation(lookahead1);
+    federateAmbassadors.get(0).checkTimeRegulationEnabled(initial);
+
+    rtiAmbassadors.get(1).enableTimeRegulation(lookahead1);
+    federateAmbassadors.get(1).checkTimeRegulationEnabled(initial);
+
+    rtiAmbassadors.get(1).enableTimeConstrained();
+    federateAmbassadors.get(1).checkTimeConstrainedEnabled(initial);
+
+    rtiAmbassadors.get(2).enableTimeConstrained();
+    federateAmbassadors.get(2).checkTimeConstrainedEnabled(initial);
+
+    testInteractionClassHandle = rtiAmbassadors.get(0).getInteractionClassHandle(TEST_INTERACTION);
+
+    testParameterValues = rtiAmbassadors.get(0).getParameterHandleValueMapFactory().create(1);
+    testParameterValues.put(
+      rtiAmbassadors.get(0).getParameterHandle(testInteractionClassHandle, PARAMETER1), PARAMETER1_VALUE.getBytes());
+
+    rtiAmbassadors.get(0).publishInteractionClass(testInteractionClassHandle);
+    rtiAmbassadors.get(1).publishInteractionClass(testInteractionClassHandle);
+    rtiAmbassadors.get(1).subscribeInteractionClass(testInteractionClassHandle);
+    rtiAmbassadors.get(2).subscribeInteractionClass(testInteractionClassHandle);
+
+    synchronize(SYNCHRONIZATION_POINT_SETUP_COMPLETE, federateAmbassadors);
+  }
+
+  @AfterClass
+  public void teardown()
+    throws Exception
+  {
+    resignFederationExecution(ResignAction.NO_ACTION);
+    destroyFederationExecution();
+    disconnect();
+
+    System.clearProperty(String.format(
+      FederationExecutionTimeManager.OHLA_RTI_TIME_MANAGEMENT_OPTIMISTIC_PROPERTY_FORMAT, FEDERATION_NAME));
+  }
+
+  @Test
+  public void testOptimisticTimeAdvanceRequest()
+    throws Exception
+  {
+    // granted ahead of federate 0, which can still send from 1
+    //
+    rtiAmbassadors.get(1).timeAdvanceRequest(ten);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(ten);
+
+    assert federateAmbassadors.get(1).getCheckpointTimes().equals(Arrays.asList(initial)) :
+      federateAmbassadors.get(1).getCheckpointTimes();
+
+    // a conservative federate still waits for federate 0
+    //
+    rtiAmbassadors.get(2).timeAdvanceRequest(ten);
+    federateAmbassadors.get(2).checkTimeAdvanceGrantNotGranted(ten);
+  }
+
+  @Test(dependsOnMethods = "testOptimisticTimeAdvanceRequest")
+  public void testRollbackPastStraggler()
+    throws Exception
+  {
+    // sent ahead of the straggler, retracted when federate 1 is rolled back
+    //
+    rtiAmbassadors.get(1).sendInteraction(testInteractionClassHandle, testParameterValues, TAG, eleven);
+
+    rtiAmbassadors.get(0).sendInteraction(testInteractionClassHandle, testParameterValues, TAG, five);
+    rtiAmbassadors.get(0).timeAdvanceRequest(twenty);
+    federateAmbassadors.get(0).checkTimeAdvanceGrant(twenty);
+
+    // rolled back to its checkpoint and granted the same time advance again, after the straggler
+    //
+    federateAmbassadors.get(1).checkRollback(initial);
+    federateAmbassadors.get(1).checkReceiveInteractionTimes(Arrays.asList(five));
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(ten);
+
+    rtiAmbassadors.get(1).timeAdvanceRequest(twenty);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(twenty);
+
+    federateAmbassadors.get(2).checkTimeAdvanceGrant(ten);
+
+    rtiAmbassadors.get(2).timeAdvanceRequest(twenty);
+    federateAmbassadors.get(2).checkTimeAdvanceGrant(twenty);
+
+    // the interaction federate 1 sent before it was rolled back never arrives
+    //
+    federateAmbassadors.get(2).checkReceiveInteractionTimes(Arrays.asList(five));
+  }
+
+  @Test(dependsOnMethods = "testRollbackPastStraggler")
+  public void testRollbackPastRetractedMessage()
+    throws Exception
+  {
+    federateAmbassadors.get(1).reset();
+    federateAmbassadors.get(2).reset();
+
+    MessageRetractionHandle messageRetractionHandle = rtiAmbassadors.get(0).sendInteraction(
+      testInteractionClassHandle, testParameterValues, TAG, twentyFive).handle;
+
+    rtiAmbassadors.get(1).timeAdvanceRequest(thirty);
+    federateAmbassadors.get(1).checkReceiveInteractionTimes(Arrays.asList(twentyFive));
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(thirty);
+
+    federateAmbassadors.get(1).reset();
+
+    // already received by federate 1, which is rolled back past it rather than asked to retract it
+    //
+    rtiAmbassadors.get(0).retract(messageRetractionHandle);
+
+    federateAmbassadors.get(1).checkRollback(twenty);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(thirty);
+    federateAmbassadors.get(1).checkReceiveInteractionTimes(new ArrayList<HLAinteger64Time>());
+
+    rtiAmbassadors.get(0).timeAdvanceRequest(thirty);
+    federateAmbassadors.get(0).checkTimeAdvanceGrant(thirty);
+
+    rtiAmbassadors.get(2).timeAdvanceRequest(thirty);
+    federateAmbassadors.get(2).checkTimeAdvanceGrant(thirty);
+    federateAmbassadors.get(2).checkReceiveInteractionTimes(new ArrayList<HLAinteger64Time>());
+  }
+
+  @Test(expectedExceptions = RTIinternalError.class)
+  public void testOptimisticPublishObjectClass()
+    throws Exception
+  {
+    // object instances are not rolled back so an optimistic federate can never register one
+    //
+    ObjectClassHandle testObjectClassHandle = rtiAmbassadors.get(1).getObjectClassHandle(TEST_OBJECT);
+
+    AttributeHandleSet attributeHandles = rtiAmbassadors.get(1).getAttributeHandleSetFactory().create();
+    attributeHandles.add(rtiAmbassadors.get(1).getAttributeHandle(testObjectClassHandle, ATTRIBUTE1));
+
+    rtiAmbassadors.get(1).publishObjectClassAttributes(testObjectClassHandle, attributeHandles);
+  }
+
+  @Test(expectedExceptions = RTIinternalError.class)
+  public void testOptimisticSubscribeObjectClass()
+    throws Exception
+  {
+    // nor discover or remove one
+    //
+    ObjectClassHandle testObjectClassHandle = rtiAmbassadors.get(1).getObjectClassHandle(TEST_OBJECT);
+
+    AttributeHandleSet attributeHandles = rtiAmbassadors.get(1).getAttributeHandleSetFactory().create();
+    attributeHandles.add(rtiAmbassadors.get(1).getAttributeHandle(testObjectClassHandle, ATTRIBUTE1));
+
+    rtiAmbassadors.get(1).subscribeObjectClassAttributes(testObjectClassHandle, attributeHandles);
+  }
+
+  protected TestFederateAmbassador createFederateAmbassador(RTIambassador rtiAmbassador)
+  {
+    // only federate 1 can be rolled back
+    //
+    return federateAmbassadors.size() == 1 ?
+      new OptimisticTestFederateAmbassador(rtiAmbassador) : new TestFederateAmbassador(rtiAmbassador);
+  }
+
+  public static class TestFederateAmbassador
+    extends TimeManagementFederateAmbassador
+  {
+    /**
+     * The times of the checkpoints saved and not rolled back.
+     */
+    protected final List<LogicalTime> checkpointTimes = new ArrayList<LogicalTime>();
+
+    protected LogicalTime rollbackTime;
+
+    public TestFederateAmbassador(RTIambassador rtiAmbassador)
+    {
+      super(rtiAmbassador);
+    }
+
+    public List<LogicalTime> getCheckpointTimes()
+    {
+      return checkpointTimes;
+    }
+
+    public void checkRollback(LogicalTime time)
+      throws Exception
+    {
+      rollbackTime = null;
+
+      evokeCallbackWhile(new Callable<Boolean>()
+      {
+        public Boolean call()
+        {
+          return rollbackTime == null;
+        }
+      });
+
+      assert time.equals(rollbackTime);
+    }
+  }
+
+  public static class OptimisticTestFederateAmbassador
+    extends TestFederateAmbassador
+    implements OptimisticFederateAmbassador
+  {
+    public OptimisticTestFederateAmbassador(RTIambassador rtiAmbassador)
+    {
+      super(rtiAmbassador);
+    }
+
+    public byte[] saveCheckpoint(LogicalTime time)
+    {
+      checkpointTimes.add(time);
+
+      return new byte[] { (byte) checkpointTimes.size() };
+    }
+
+    public void rollback(LogicalTime time, byte[] state)
+    {
+      // the checkpoints after the one rolled back to are gone
+      //
+      checkpointTimes.subList(state[0], checkpointTimes.size()).clear();
+
+      assert time.equals(checkpointTimes.get(checkpointTimes.size() - 1)) : checkpointTimes;
+
+      rollbackTime = time;
+    }
+  }
+}
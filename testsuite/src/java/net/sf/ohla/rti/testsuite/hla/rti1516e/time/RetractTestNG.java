@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2006-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.hla.rti1516e.time;
+
+import java.util.Arrays;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import hla.rti1516e.InteractionClassHandle;
+import hla.rti1516e.MessageRetractionHandle;
+import hla.rti1516e.MessageRetractionReturn;
+import hla.rti1516e.OrderType;
+import hla.rti1516e.ParameterHandle;
+import hla.rti1516e.ParameterHandleValueMap;
+import hla.rti1516e.TransportationTypeHandle;
+import hla.rti1516e.exceptions.MessageCanNoLongerBeRetracted;
+
+@Test
+public class RetractTestNG
+  extends BaseTimeManagementTestNG
+{
+  private static final String FEDERATION_NAME = RetractTestNG.class.getSimpleName();
+
+  private TransportationTypeHandle reliableTransportationTypeHandle;
+
+  private InteractionClassHandle testInteractionClassHandle;
+  private ParameterHandleValueMap testParameterValues;
+
+  private MessageRetractionHandle testInteractionMessageRetractionHandle1;
+  private MessageRetractionHandle testInteractionMessageRetractionHandle2;
+
+  public RetractTestNG()
+  {
+    super(2, FEDERATION_NAME);
+  }
+
+  @BeforeClass
+  public void setup()
+    throws Exception
+  {
+    reliableTransportationTypeHandle = rtiAmbassadors.get(0).getTransportationTypeHandle(HLA_RELIABLE);
+
+    rtiAmbassadors.get(0).enableTimeRegulation(lookahead1);
+    rtiAmbassadors.get(1).enableTimeRegulation(lookahead1);
+
+    federateAmbassadors.get(0).checkTimeRegulationEnabled(initial);
+    federateAmbassadors.get(1).checkTimeRegulationEnabled(initial);
+
+    rtiAmbassadors.get(0).enableTimeConstrained();
+    rtiAmbassadors.get(1).enableTimeConstrained();
+
+    federateAmbassadors.get(0).checkTimeConstrainedEnabled(initial);
+    federateAmbassadors.get(1).checkTimeConstrainedEnabled(initial);
+
+    testInteractionClassHandle = rtiAmbassadors.get(0).getInteractionClassHandle(TEST_INTERACTION);
+
+    ParameterHandle parameterHandle1 = rtiAmbassadors.get(0).getParameterHandle(testInteractionClassHandle, PARAMETER1);
+    ParameterHandle parameterHandle2 = rtiAmbassadors.get(0).getParameterHandle(testInteractionClassHandle, PARAMETER2);
+    ParameterHandle parameterHandle3 = rtiAmbassadors.get(0).getParameterHandle(testInteractionClassHandle, PARAMETER3);
+
+    testParameterValues = rtiAmbassadors.get(0).getParameterHandleValueMapFactory().create(3);
+    testParameterValues.put(parameterHandle1, PARAMETER1_VALUE.getBytes());
+    testParameterValues.put(parameterHandle2, PARAMETER2_VALUE.getBytes());
+    testParameterValues.put(parameterHandle3, PARAMETER3_VALUE.getBytes());
+
+    rtiAmbassadors.get(0).publishInteractionClass(testInteractionClassHandle);
+
+    rtiAmbassadors.get(1).subscribeInteractionClass(testInteractionClassHandle);
+
+    synchronize(SYNCHRONIZATION_POINT_SETUP_COMPLETE, federateAmbassadors);
+
+    MessageRetractionReturn messageRetractionReturn1 =
+      rtiAmbassadors.get(0).sendInteraction(testInteractionClassHandle, testParameterValues, TAG, five);
+    assert messageRetractionReturn1.retractionHandleIsValid;
+    testInteractionMessageRetractionHandle1 = messageRetractionReturn1.handle;
+
+    MessageRetractionReturn messageRetractionReturn2 =
+      rtiAmbassadors.get(0).sendInteraction(testInteractionClassHandle, testParameterValues, TAG, ten);
+    assert messageRetractionReturn2.retractionHandleIsValid;
+    testInteractionMessageRetractionHandle2 = messageRetractionReturn2.handle;
+
+    synchronize(SYNCHRONIZATION_POINT_SETUP_COMPLETE2, federateAmbassadors);
+  }
+
+  @Test
+  public void testRetractBeforeDelivery()
+    throws Exception
+  {
+    rtiAmbassadors.get(0).retract(testInteractionMessageRetractionHandle1);
+
+    // the retraction reaches the receiver ahead of the synchronization, so the retracted interaction is never delivered
+    //
+    synchronize(SYNCHRONIZATION_POINT_1, federateAmbassadors);
+
+    rtiAmbassadors.get(1).flushQueueRequest(initial);
+
+    federateAmbassadors.get(1).checkParameterValues(
+      testInteractionClassHandle, testParameterValues, TAG, OrderType.TIMESTAMP, reliableTransportationTypeHandle,
+      ten, OrderType.TIMESTAMP, testInteractionMessageRetractionHandle2, federateHandles.get(0));
+
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(initial);
+  }
+
+  @Test(dependsOnMethods = "testRetractBeforeDelivery")
+  public void testRetractAfterDelivery()
+    throws Exception
+  {
+    // the interaction was already delivered by the flush queue request, so the receiver has to undo it
+    //
+    rtiAmbassadors.get(0).retract(testInteractionMessageRetractionHandle2);
+
+    federateAmbassadors.get(1).checkRequestRetraction(testInteractionMessageRetractionHandle2);
+  }
+
+  @Test(dependsOnMethods = "testRetractAfterDelivery")
+  public void testRetractAtGALT()
+    throws Exception
+  {
+    federateAmbassadors.get(1).reset();
+
+    rtiAmbassadors.get(0).timeAdvanceRequest(two);
+    rtiAmbassadors.get(1).timeAdvanceRequest(two);
+
+    federateAmbassadors.get(0).checkTimeAdvanceGrant(two);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(two);
+
+    // the sender's LOTS, and so the receiver's GALT, is three
+    //
+    MessageRetractionReturn messageRetractionReturn3 =
+      rtiAmbassadors.get(0).sendInteraction(testInteractionClassHandle, testParameterValues, TAG, three);
+    assert messageRetractionReturn3.retractionHandleIsValid;
+
+    MessageRetractionReturn messageRetractionReturn4 =
+      rtiAmbassadors.get(0).sendInteraction(testInteractionClassHandle, testParameterValues, TAG, four);
+    assert messageRetractionReturn4.retractionHandleIsValid;
+
+    // no regulating federate can retract a message at the GALT, which is why the RTI expires it there under
+    // conservative time management
+    //
+    try
+    {
+      rtiAmbassadors.get(0).retract(messageRetractionReturn3.handle);
+      assert false;
+    }
+    catch (MessageCanNoLongerBeRetracted mcnlbr)
+    {
+      // intentionally empty
+    }
+
+    rtiAmbassadors.get(0).retract(messageRetractionReturn4.handle);
+
+    rtiAmbassadors.get(0).timeAdvanceRequest(four);
+    rtiAmbassadors.get(1).timeAdvanceRequest(four);
+
+    federateAmbassadors.get(0).checkTimeAdvanceGrant(four);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(four);
+
+    federateAmbassadors.get(1).checkReceiveInteractionTimes(Arrays.asList(three));
+  }
+}
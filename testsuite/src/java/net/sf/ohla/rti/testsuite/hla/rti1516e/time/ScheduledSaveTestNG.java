@@ -0,0 +1,159 @@
+package net.sf.ohla.rti.testsuite.hla.rti1516e.time;
+
+import java.util.UUID;
+
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eRTIambassador;
+import net.sf.ohla.rti.testsuite.hla.rti1516e.object.TestObjectInstance;
+
+import org.testng.annotations.Test;
+
+import hla.rti1516e.ObjectInstanceHandle;
+import hla.rti1516e.ResignAction;
+import hla.rti1516e.time.HLAinteger64TimeFactory;
+
+@Test
+public class ScheduledSaveTestNG
+  extends BaseTimeAdvanceRequestTestNG
+{
+  private static final String FEDERATION_NAME = ScheduledSaveTestNG.class.getSimpleName();
+  private static final String SAVE_NAME = FEDERATION_NAME + UUID.randomUUID();
+  private static final String UNDEFINED_GALT_SAVE_NAME = SAVE_NAME + "-undefined";
+
+  private ObjectInstanceHandle testObjectInstanceHandle2;
+  private String testObjectInstanceName2;
+
+  public ScheduledSaveTestNG()
+  {
+    super(FEDERATION_NAME);
+  }
+
+  @Test
+  public void testScheduledFederationSave()
+    throws Exception
+  {
+    // save at 3 and every 3 after that
+    //
+    ((IEEE1516eRTIambassador) rtiAmbassadors.get(0)).requestFederationSave(
+      SAVE_NAME, three, logicalTimeFactory.makeInterval(3L));
+
+    // the GALT passes 3 once both federates request to advance to 5
+    //
+    rtiAmbassadors.get(0).timeAdvanceRequest(five);
+    rtiAmbassadors.get(1).timeAdvanceRequest(five);
+
+    // the save is started after the advance is granted
+    //
+    federateAmbassadors.get(0).checkTimeAdvanceGrant(five);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(five);
+
+    federateAmbassadors.get(0).checkInitiateFederateSave(SAVE_NAME + "-0", three);
+    federateAmbassadors.get(1).checkInitiateFederateSave(SAVE_NAME + "-0", three);
+
+    saveFederation(SAVE_NAME + "-0");
+
+    // register an object instance between the saves so the later saves differ from the first
+    //
+    testObjectInstanceHandle2 = rtiAmbassadors.get(0).registerObjectInstance(testObjectClassHandle);
+    testObjectInstanceName2 = rtiAmbassadors.get(0).getObjectInstanceName(testObjectInstanceHandle2);
+
+    federateAmbassadors.get(1).checkObjectInstanceHandle(testObjectInstanceHandle2);
+
+    // the GALT passes both 6 and 9, the save at 9 is started once the save at 6 is over
+    //
+    rtiAmbassadors.get(0).timeAdvanceRequest(ten);
+    rtiAmbassadors.get(1).timeAdvanceRequest(ten);
+
+    federateAmbassadors.get(0).checkTimeAdvanceGrant(ten);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(ten);
+
+    federateAmbassadors.get(0).checkInitiateFederateSave(SAVE_NAME + "-1", six);
+    federateAmbassadors.get(1).checkInitiateFederateSave(SAVE_NAME + "-1", six);
+
+    saveFederation(SAVE_NAME + "-1");
+
+    federateAmbassadors.get(0).checkInitiateFederateSave(SAVE_NAME + "-2", nine);
+    federateAmbassadors.get(1).checkInitiateFederateSave(SAVE_NAME + "-2", nine);
+
+    saveFederation(SAVE_NAME + "-2");
+  }
+
+  @Test(dependsOnMethods = "testScheduledFederationSave")
+  public void testRestoreScheduledFederationSave()
+    throws Exception
+  {
+    resignFederationExecution(ResignAction.UNCONDITIONALLY_DIVEST_ATTRIBUTES);
+    destroyFederationExecution();
+    disconnect();
+
+    for (TimeManagementFederateAmbassador federateAmbassador : federateAmbassadors)
+    {
+      federateAmbassador.reset();
+    }
+
+    connect();
+    createFederationExecution(HLAinteger64TimeFactory.NAME);
+    joinFederationExecution();
+
+    rtiAmbassadors.get(0).requestFederationRestore(SAVE_NAME + "-2");
+
+    federateAmbassadors.get(0).checkRequestFederationRestoreSucceeded(SAVE_NAME + "-2");
+
+    federateAmbassadors.get(0).checkInitiateFederateRestore(SAVE_NAME + "-2", FEDERATE_TYPE_1, federateHandles.get(0));
+    federateAmbassadors.get(1).checkInitiateFederateRestore(SAVE_NAME + "-2", FEDERATE_TYPE_2, federateHandles.get(1));
+
+    rtiAmbassadors.get(0).federateRestoreComplete();
+    rtiAmbassadors.get(1).federateRestoreComplete();
+
+    federateAmbassadors.get(0).checkFederationRestored(SAVE_NAME + "-2");
+    federateAmbassadors.get(1).checkFederationRestored(SAVE_NAME + "-2");
+
+    federateAmbassadors.get(1).getObjectInstances().put(
+      testObjectInstanceHandle2, new TestObjectInstance(
+        testObjectInstanceHandle2, testObjectClassHandle, testObjectInstanceName2, federateHandles.get(0)));
+
+    // the object instance registered between the saves is known to the RTI after the restore
+    //
+    rtiAmbassadors.get(0).updateAttributeValues(testObjectInstanceHandle2, testAttributeValues, TAG, fifteen);
+
+    rtiAmbassadors.get(0).timeAdvanceRequest(twenty);
+    rtiAmbassadors.get(1).timeAdvanceRequest(twenty);
+
+    federateAmbassadors.get(1).checkAttributeValues(testObjectInstanceHandle2, testAttributeValues, fifteen);
+
+    federateAmbassadors.get(0).checkTimeAdvanceGrant(twenty);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(twenty);
+  }
+
+  @Test(dependsOnMethods = "testRestoreScheduledFederationSave")
+  public void testScheduledFederationSaveWithoutTimeRegulatingFederates()
+    throws Exception
+  {
+    rtiAmbassadors.get(0).requestFederationSave(UNDEFINED_GALT_SAVE_NAME, thirty);
+
+    // the GALT is still held below 30 by the other federate
+    //
+    rtiAmbassadors.get(0).disableTimeRegulation();
+
+    // with no federate time regulating the GALT is undefined, which is past every save time
+    //
+    rtiAmbassadors.get(1).disableTimeRegulation();
+
+    federateAmbassadors.get(0).checkInitiateFederateSave(UNDEFINED_GALT_SAVE_NAME, thirty);
+    federateAmbassadors.get(1).checkInitiateFederateSave(UNDEFINED_GALT_SAVE_NAME, thirty);
+
+    saveFederation(UNDEFINED_GALT_SAVE_NAME);
+  }
+
+  private void saveFederation(String label)
+    throws Exception
+  {
+    rtiAmbassadors.get(0).federateSaveBegun();
+    rtiAmbassadors.get(1).federateSaveBegun();
+
+    rtiAmbassadors.get(0).federateSaveComplete();
+    rtiAmbassadors.get(1).federateSaveComplete();
+
+    federateAmbassadors.get(0).checkFederationSaved(label);
+    federateAmbassadors.get(1).checkFederationSaved(label);
+  }
+}
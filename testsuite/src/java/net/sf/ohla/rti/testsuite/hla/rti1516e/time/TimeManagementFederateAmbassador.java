@@ -16,8 +16,10 @@
 
 package net.sf.ohla.rti.testsuite.hla.rti1516e.time;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 
@@ -57,6 +59,12 @@ public class TimeManagementFederateAmbassador
   private OrderType receivedOrderType;
   private MessageRetractionHandle messageRetractionHandle;
   private SupplementalReceiveInfo receiveInfo;
+  private MessageRetractionHandle requestRetractionHandle;
+
+  /**
+   * The times of the time stamp ordered interactions received since the last reset, in the order they were received.
+   */
+  private final List<LogicalTime> receiveInteractionTimes = new ArrayList<LogicalTime>();
 
   public TimeManagementFederateAmbassador(RTIambassador rtiAmbassador)
   {
@@ -285,6 +293,20 @@ public class TimeManagementFederateAmbassador
     assert !receiveInfo.hasProducingFederate() || federateHandle.equals(receiveInfo.getProducingFederate());
   }
 
+  public void checkReceiveInteractionTimes(final List<? extends LogicalTime> receiveInteractionTimes)
+    throws Exception
+  {
+    evokeCallbackWhile(new Callable<Boolean>()
+    {
+      public Boolean call()
+      {
+        return TimeManagementFederateAmbassador.this.receiveInteractionTimes.size() < receiveInteractionTimes.size();
+      }
+    }, receiveInteractionTimes.size() + 5);
+
+    assert receiveInteractionTimes.equals(this.receiveInteractionTimes) : this.receiveInteractionTimes;
+  }
+
   public void checkParameterValuesNotReceived()
     throws Exception
   {
@@ -299,6 +321,20 @@ public class TimeManagementFederateAmbassador
     assert parameterValues == null;
   }
 
+  public void checkRequestRetraction(MessageRetractionHandle messageRetractionHandle)
+    throws Exception
+  {
+    evokeCallbackWhile(new Callable<Boolean>()
+    {
+      public Boolean call()
+      {
+        return requestRetractionHandle == null;
+      }
+    });
+
+    assert messageRetractionHandle.equals(requestRetractionHandle);
+  }
+
   @Override
   public void reset()
   {
@@ -315,6 +351,9 @@ public class TimeManagementFederateAmbassador
     receivedOrderType = null;
     messageRetractionHandle = null;
     receiveInfo = null;
+    requestRetractionHandle = null;
+
+    receiveInteractionTimes.clear();
   }
 
   @Override
@@ -335,6 +374,12 @@ public class TimeManagementFederateAmbassador
     federateTime = time;
   }
 
+  @Override
+  public void requestRetraction(MessageRetractionHandle messageRetractionHandle)
+  {
+    requestRetractionHandle = messageRetractionHandle;
+  }
+
   @Override
   public void discoverObjectInstance(ObjectInstanceHandle objectInstanceHandle, ObjectClassHandle objectClassHandle,
                                      String objectInstanceName, FederateHandle producingFederateHandle)
@@ -423,6 +468,7 @@ public class TimeManagementFederateAmbassador
     this.transportationTypeHandle = transportationTypeHandle;
     receiveInteractionTime = time;
     this.receivedOrderType = receivedOrderType;
+    receiveInteractionTimes.add(time);
     this.receiveInfo = receiveInfo;
 
     messageRetractionHandle = null;
@@ -441,6 +487,7 @@ public class TimeManagementFederateAmbassador
     this.transportationTypeHandle = transportationTypeHandle;
     receiveInteractionTime = time;
     this.receivedOrderType = receivedOrderType;
+    receiveInteractionTimes.add(time);
     this.messageRetractionHandle = messageRetractionHandle;
     this.receiveInfo = receiveInfo;
   }
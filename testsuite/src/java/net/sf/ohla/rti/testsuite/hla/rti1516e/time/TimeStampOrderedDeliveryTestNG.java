@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.hla.rti1516e.time;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import hla.rti1516e.AttributeHandleSet;
+import hla.rti1516e.time.HLAinteger64Time;
+
+/**
+ * Queues time stamp ordered messages for a time constrained federate out of time stamp order and checks that they are
+ * delivered, and counted towards its LITS, in time stamp order.
+ */
+@Test
+public class TimeStampOrderedDeliveryTestNG
+  extends BaseTimeAdvanceRequestTestNG
+{
+  private static final String FEDERATION_NAME = TimeStampOrderedDeliveryTestNG.class.getSimpleName();
+
+  private final HLAinteger64Time eleven = logicalTimeFactory.makeTime(11L);
+  private final HLAinteger64Time twelve = logicalTimeFactory.makeTime(12L);
+  private final HLAinteger64Time thirteen = logicalTimeFactory.makeTime(13L);
+  private final HLAinteger64Time fourteen = logicalTimeFactory.makeTime(14L);
+
+  /**
+   * The times of the interactions federate 1 should have received so far.
+   */
+  private final List<HLAinteger64Time> receiveInteractionTimes = new ArrayList<HLAinteger64Time>();
+
+  public TimeStampOrderedDeliveryTestNG()
+  {
+    super(FEDERATION_NAME);
+  }
+
+  @Test
+  public void testTimeAdvanceRequest()
+    throws Exception
+  {
+    // a heap iterates these in neither the order they were sent nor time stamp order
+    //
+    List<HLAinteger64Time> times = Arrays.asList(nine, three, seven, two, five, eight, four, six);
+    for (HLAinteger64Time time : times)
+    {
+      rtiAmbassadors.get(0).sendInteraction(testInteractionClassHandle, testParameterValues, TAG, time);
+    }
+
+    rtiAmbassadors.get(0).timeAdvanceRequest(ten);
+    rtiAmbassadors.get(1).timeAdvanceRequest(ten);
+
+    receiveInteractionTimes.addAll(times);
+    Collections.sort(receiveInteractionTimes);
+
+    federateAmbassadors.get(1).checkReceiveInteractionTimes(receiveInteractionTimes);
+
+    federateAmbassadors.get(0).checkTimeAdvanceGrant(ten);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(ten);
+  }
+
+  @Test(dependsOnMethods = "testTimeAdvanceRequest")
+  public void testLITSFollowsSubscriptions()
+    throws Exception
+  {
+    rtiAmbassadors.get(0).sendInteraction(testInteractionClassHandle, testParameterValues, TAG, thirteen);
+    rtiAmbassadors.get(0).updateAttributeValues(testObjectInstanceHandle, testAttributeValues, TAG, twelve);
+
+    // a round trip to the RTI ensures the messages have been queued
+    //
+    rtiAmbassadors.get(0).getFederateName(federateHandles.get(1));
+
+    federateAmbassadors.get(1).checkLITS(twelve);
+
+    AttributeHandleSet testObjectAttributeHandles = rtiAmbassadors.get(1).getAttributeHandleSetFactory().create();
+    testObjectAttributeHandles.addAll(testAttributeValues.keySet());
+
+    // the update no longer counts
+    //
+    rtiAmbassadors.get(1).unsubscribeObjectClassAttributes(testObjectClassHandle, testObjectAttributeHandles);
+    federateAmbassadors.get(1).checkLITS(thirteen);
+
+    rtiAmbassadors.get(1).subscribeObjectClassAttributes(testObjectClassHandle, testObjectAttributeHandles);
+    federateAmbassadors.get(1).checkLITS(twelve);
+
+    // the update still counts
+    //
+    rtiAmbassadors.get(1).unsubscribeInteractionClass(testInteractionClassHandle);
+    federateAmbassadors.get(1).checkLITS(twelve);
+
+    rtiAmbassadors.get(1).subscribeInteractionClass(testInteractionClassHandle);
+    federateAmbassadors.get(1).checkLITS(twelve);
+  }
+
+  @Test(dependsOnMethods = "testLITSFollowsSubscriptions")
+  public void testNextMessageRequest()
+    throws Exception
+  {
+    rtiAmbassadors.get(0).sendInteraction(testInteractionClassHandle, testParameterValues, TAG, fourteen);
+    rtiAmbassadors.get(0).sendInteraction(testInteractionClassHandle, testParameterValues, TAG, eleven);
+
+    rtiAmbassadors.get(0).timeAdvanceRequest(twenty);
+
+    rtiAmbassadors.get(1).nextMessageRequest(twenty);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(eleven);
+
+    rtiAmbassadors.get(1).nextMessageRequest(twenty);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(twelve);
+    federateAmbassadors.get(1).checkAttributeValues(testObjectInstanceHandle, testAttributeValues, twelve);
+
+    rtiAmbassadors.get(1).nextMessageRequest(twenty);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(thirteen);
+
+    rtiAmbassadors.get(1).nextMessageRequest(twenty);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(fourteen);
+
+    receiveInteractionTimes.addAll(Arrays.asList(eleven, thirteen, fourteen));
+    federateAmbassadors.get(1).checkReceiveInteractionTimes(receiveInteractionTimes);
+
+    rtiAmbassadors.get(1).nextMessageRequest(twenty);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(twenty);
+    federateAmbassadors.get(0).checkTimeAdvanceGrant(twenty);
+  }
+}
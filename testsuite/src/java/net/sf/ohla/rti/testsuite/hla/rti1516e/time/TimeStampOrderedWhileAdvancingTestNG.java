@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.hla.rti1516e.time;
+
+import org.testng.annotations.Test;
+
+import hla.rti1516e.OrderType;
+
+/**
+ * A time stamp ordered message that reaches the RTI while the receiving federate is already waiting on a time advance
+ * must still be delivered in time stamp order before the grant.
+ */
+@Test
+public class TimeStampOrderedWhileAdvancingTestNG
+  extends BaseTimeAdvanceRequestTestNG
+{
+  private static final String FEDERATION_NAME = TimeStampOrderedWhileAdvancingTestNG.class.getSimpleName();
+
+  public TimeStampOrderedWhileAdvancingTestNG()
+  {
+    super(FEDERATION_NAME);
+  }
+
+  @Test
+  public void testTimeAdvanceRequestAvailablePending()
+    throws Exception
+  {
+    rtiAmbassadors.get(1).timeAdvanceRequestAvailable(five);
+
+    // a round trip to the RTI ensures the request has been processed before the message is sent
+    //
+    rtiAmbassadors.get(1).getFederateName(federateHandles.get(0));
+
+    rtiAmbassadors.get(0).sendInteraction(testInteractionClassHandle, testParameterValues, TAG, five);
+    rtiAmbassadors.get(0).timeAdvanceRequest(four);
+
+    federateAmbassadors.get(1).checkParameterValues(
+      testInteractionClassHandle, testParameterValues, TAG, OrderType.TIMESTAMP, reliableTransportationTypeHandle,
+      five, OrderType.TIMESTAMP, null, federateHandles.get(0));
+
+    federateAmbassadors.get(0).checkTimeAdvanceGrant(four);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(five);
+  }
+
+  @Test(dependsOnMethods = "testTimeAdvanceRequestAvailablePending")
+  public void testTimeAdvanceRequestPending()
+    throws Exception
+  {
+    federateAmbassadors.get(1).reset();
+
+    rtiAmbassadors.get(1).timeAdvanceRequest(ten);
+
+    // a round trip to the RTI ensures the request has been processed before the message is sent
+    //
+    rtiAmbassadors.get(1).getFederateName(federateHandles.get(0));
+
+    rtiAmbassadors.get(0).sendInteraction(testInteractionClassHandle, testParameterValues, TAG, seven);
+    rtiAmbassadors.get(0).timeAdvanceRequest(ten);
+
+    federateAmbassadors.get(1).checkParameterValues(
+      testInteractionClassHandle, testParameterValues, TAG, OrderType.TIMESTAMP, reliableTransportationTypeHandle,
+      seven, OrderType.TIMESTAMP, null, federateHandles.get(0));
+
+    federateAmbassadors.get(0).checkTimeAdvanceGrant(ten);
+    federateAmbassadors.get(1).checkTimeAdvanceGrant(ten);
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.messages;
+
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.EnumSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eTransportationTypeHandle;
+import net.sf.ohla.rti.messages.DatagramTransport;
+import net.sf.ohla.rti.messages.FederateSaveBegun;
+import net.sf.ohla.rti.messages.Message;
+import net.sf.ohla.rti.messages.MessageDecoder;
+import net.sf.ohla.rti.messages.MessageEncoder;
+import net.sf.ohla.rti.messages.callbacks.ReflectAttributeValues;
+import net.sf.ohla.rti.messages.proto.FederateMessageProtos;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+import net.sf.ohla.rti.proto.OHLAProtos;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.ChannelPipeline;
+import org.jboss.netty.channel.Channels;
+import org.jboss.netty.channel.MessageEvent;
+import org.jboss.netty.channel.SimpleChannelUpstreamHandler;
+import org.jboss.netty.channel.local.DefaultLocalClientChannelFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Sends datagrams between two {@link DatagramTransport}s on the loopback interface. The messages a transport receives
+ * are delivered through a channel standing in for the reliable channel of the peer.
+ */
+@Test
+public class DatagramTransportTestNG
+{
+  private static final long OBJECT_INSTANCE_HANDLE = 7L;
+
+  private static final long TIMEOUT_MILLIS = 5000L;
+
+  /**
+   * How long to wait for a datagram that is expected to be dropped.
+   */
+  private static final long DROPPED_TIMEOUT_MILLIS = 250L;
+
+  private final MessageEncoder messageEncoder = new MessageEncoder();
+
+  private final BlockingQueue<Message> received = new LinkedBlockingQueue<>();
+
+  private DatagramTransport sender;
+  private DatagramTransport receiver;
+
+  private DatagramSocket rawSender;
+
+  @BeforeClass
+  public void setup()
+    throws Exception
+  {
+    InetAddress loopback = InetAddress.getLoopbackAddress();
+
+    sender = new DatagramTransport(
+      new InetSocketAddress(loopback, 0), null, DatagramTransport.DEFAULT_MAX_DATAGRAM_SIZE,
+      EnumSet.noneOf(MessageProtos.MessageType.class));
+    receiver = new DatagramTransport(
+      new InetSocketAddress(loopback, 0), null, DatagramTransport.DEFAULT_MAX_DATAGRAM_SIZE,
+      EnumSet.of(MessageProtos.MessageType.REFLECT_ATTRIBUTE_VALUES));
+
+    rawSender = new DatagramSocket(new InetSocketAddress(loopback, 0));
+
+    Channel peer = createPeer();
+    receiver.addPeer(sender.getLocalAddress(), peer);
+    receiver.addPeer(rawSender.getLocalSocketAddress(), peer);
+  }
+
+  @AfterClass
+  public void teardown()
+  {
+    rawSender.close();
+    sender.close();
+    receiver.close();
+  }
+
+  @Test
+  public void testWrite()
+    throws Exception
+  {
+    long receivedMessages = receiver.getReceivedMessages();
+
+    assert sender.write(createReflection(16), receiver.getLocalAddress());
+
+    Message message = received.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    assert message instanceof ReflectAttributeValues;
+    assert ((ReflectAttributeValues) message).getBuilder().getObjectInstanceHandle().getObjectInstanceHandle() ==
+           OBJECT_INSTANCE_HANDLE;
+    assert receiver.getReceivedMessages() == receivedMessages + 1;
+  }
+
+  @Test
+  public void testWriteTooLarge()
+    throws Exception
+  {
+    long receivedMessages = receiver.getReceivedMessages();
+
+    // left to the reliable channel
+    //
+    assert !sender.write(
+      createReflection(2 * DatagramTransport.DEFAULT_MAX_DATAGRAM_SIZE), receiver.getLocalAddress());
+
+    assert received.poll(DROPPED_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS) == null;
+    assert receiver.getReceivedMessages() == receivedMessages;
+  }
+
+  @Test
+  public void testMessageTypeNotAccepted()
+    throws Exception
+  {
+    send(messageEncoder.encode(new FederateSaveBegun()));
+
+    assert received.poll(DROPPED_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS) == null;
+
+    checkStillReceiving();
+  }
+
+  @Test
+  public void testNegativeLength()
+    throws Exception
+  {
+    ChannelBuffer frame = messageEncoder.encode(createReflection(16));
+    frame.setInt(frame.readerIndex(), -1);
+    send(frame);
+
+    assert received.poll(DROPPED_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS) == null;
+
+    checkStillReceiving();
+  }
+
+  @Test
+  public void testTruncated()
+    throws Exception
+  {
+    ChannelBuffer frame = messageEncoder.encode(createReflection(16));
+    send(frame.slice(frame.readerIndex(), frame.readableBytes() - 1));
+
+    assert received.poll(DROPPED_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS) == null;
+
+    checkStillReceiving();
+  }
+
+  @Test
+  public void testUnknownPeer()
+    throws Exception
+  {
+    DatagramSocket unknownSender = new DatagramSocket(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    try
+    {
+      ChannelBuffer frame = messageEncoder.encode(createReflection(16));
+
+      byte[] bytes = new byte[frame.readableBytes()];
+      frame.getBytes(frame.readerIndex(), bytes);
+      unknownSender.send(new DatagramPacket(bytes, bytes.length, receiver.getLocalAddress()));
+    }
+    finally
+    {
+      unknownSender.close();
+    }
+
+    assert received.poll(DROPPED_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS) == null;
+  }
+
+  private void checkStillReceiving()
+    throws Exception
+  {
+    send(messageEncoder.encode(createReflection(16)));
+
+    assert received.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS) instanceof ReflectAttributeValues;
+  }
+
+  private void send(ChannelBuffer datagram)
+    throws Exception
+  {
+    byte[] bytes = new byte[datagram.readableBytes()];
+    datagram.getBytes(datagram.readerIndex(), bytes);
+    rawSender.send(new DatagramPacket(bytes, bytes.length, receiver.getLocalAddress()));
+  }
+
+  private Channel createPeer()
+  {
+    ChannelPipeline pipeline = Channels.pipeline();
+    pipeline.addLast(MessageDecoder.NAME, new MessageDecoder());
+    pipeline.addLast("received", new SimpleChannelUpstreamHandler()
+    {
+      @Override
+      public void messageReceived(ChannelHandlerContext context, MessageEvent event)
+      {
+        received.add((Message) event.getMessage());
+      }
+    });
+    return new DefaultLocalClientChannelFactory().newChannel(pipeline);
+  }
+
+  private ReflectAttributeValues createReflection(int valueLength)
+  {
+    FederateMessageProtos.ReflectAttributeValues.Builder builder =
+      FederateMessageProtos.ReflectAttributeValues.newBuilder();
+    builder.setObjectInstanceHandle(
+      OHLAProtos.ObjectInstanceHandle.newBuilder().setFederateHandle(1).setObjectInstanceHandle(OBJECT_INSTANCE_HANDLE));
+    builder.addAttributeValues(MessageProtos.AttributeValue.newBuilder().setAttributeHandle(1).setValue(
+      ByteString.copyFrom(new byte[valueLength])));
+    builder.setSentOrderType(OHLAProtos.OrderType.RECEIVE);
+    builder.setReceivedOrderType(OHLAProtos.OrderType.RECEIVE);
+    builder.setTransportationTypeHandle(IEEE1516eTransportationTypeHandle.HLA_BEST_EFFORT.handle);
+    builder.setProducingFederateHandle(1);
+    return new ReflectAttributeValues(builder.build());
+  }
+}
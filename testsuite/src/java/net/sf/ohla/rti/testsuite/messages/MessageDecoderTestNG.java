@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.messages;
+
+import net.sf.ohla.rti.messages.FederateSaveBegun;
+import net.sf.ohla.rti.messages.FederateSaveComplete;
+import net.sf.ohla.rti.messages.Message;
+import net.sf.ohla.rti.messages.MessageDecoder;
+import net.sf.ohla.rti.messages.MessageEncoder;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.jboss.netty.handler.codec.embedder.CodecEmbedderException;
+import org.jboss.netty.handler.codec.embedder.DecoderEmbedder;
+import org.jboss.netty.handler.codec.frame.CorruptedFrameException;
+import org.testng.annotations.Test;
+
+/**
+ * Feeds frames to a {@link MessageDecoder} through a {@link DecoderEmbedder}.
+ */
+@Test
+public class MessageDecoderTestNG
+{
+  private final MessageEncoder messageEncoder = new MessageEncoder();
+
+  @Test
+  public void testFramesInPieces()
+    throws Exception
+  {
+    ChannelBuffer frames = ChannelBuffers.wrappedBuffer(
+      messageEncoder.encode(new FederateSaveBegun()), messageEncoder.encode(new FederateSaveComplete()));
+
+    DecoderEmbedder<Message> decoder = new DecoderEmbedder<>(new MessageDecoder());
+
+    // split the length field of the first frame and the body of the second
+    //
+    int[] splits = { 2, frames.readableBytes() - 1, frames.readableBytes() };
+    int index = 0;
+    for (int split : splits)
+    {
+      decoder.offer(frames.slice(index, split - index));
+      index = split;
+    }
+
+    assert decoder.poll() instanceof FederateSaveBegun;
+    assert decoder.poll() instanceof FederateSaveComplete;
+    assert decoder.poll() == null;
+  }
+
+  @Test
+  public void testNegativeFrameLength()
+  {
+    checkCorruptedFrame(-1);
+  }
+
+  @Test
+  public void testFrameLengthTooLong()
+  {
+    checkCorruptedFrame(MessageDecoder.DEFAULT_MAX_FRAME_LENGTH + 1);
+  }
+
+  private void checkCorruptedFrame(int length)
+  {
+    ChannelBuffer frame = ChannelBuffers.buffer(8);
+    frame.writeInt(length);
+    frame.writeInt(0);
+
+    DecoderEmbedder<Message> decoder = new DecoderEmbedder<>(new MessageDecoder());
+    try
+    {
+      decoder.offer(frame);
+
+      assert false : "frame length not rejected: " + length;
+    }
+    catch (CodecEmbedderException cee)
+    {
+      assert cee.getCause() instanceof CorruptedFrameException : cee.getCause();
+    }
+    assert decoder.poll() == null;
+  }
+}
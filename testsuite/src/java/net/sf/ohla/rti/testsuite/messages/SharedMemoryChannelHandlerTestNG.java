@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.messages;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.ohla.rti.RTI;
+import net.sf.ohla.rti.messages.CoalescingWriteHandler;
+import net.sf.ohla.rti.messages.OpenSharedMemory;
+import net.sf.ohla.rti.messages.OpenSharedMemoryResponse;
+import net.sf.ohla.rti.messages.SharedMemoryChannelHandler;
+import net.sf.ohla.rti.messages.proto.ConnectedMessageProtos;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.jboss.netty.channel.AbstractChannel;
+import org.jboss.netty.channel.AbstractChannelSink;
+import org.jboss.netty.channel.ChannelConfig;
+import org.jboss.netty.channel.ChannelEvent;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.ChannelPipeline;
+import org.jboss.netty.channel.ChannelState;
+import org.jboss.netty.channel.ChannelStateEvent;
+import org.jboss.netty.channel.Channels;
+import org.jboss.netty.channel.DefaultChannelConfig;
+import org.jboss.netty.channel.MessageEvent;
+import org.jboss.netty.channel.SimpleChannelHandler;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Has the RTI open the shared memory a federate created, over channels that stand in for the socket. When the RTI
+ * cannot or will not open it the connection has to stay on the socket.
+ */
+@Test
+public class SharedMemoryChannelHandlerTestNG
+{
+  private static final String TEST_HANDLER = "TestHandler";
+
+  private static final SocketAddress LOOPBACK_ADDRESS = new InetSocketAddress(InetAddress.getLoopbackAddress(), 15000);
+
+  private SharedMemoryChannelHandler federateHandler;
+
+  @BeforeMethod
+  public void setup()
+    throws Exception
+  {
+    federateHandler = SharedMemoryChannelHandler.create(
+      SharedMemoryChannelHandler.getDefaultDirectory(), SharedMemoryChannelHandler.MIN_CAPACITY);
+  }
+
+  @AfterMethod
+  public void teardown()
+    throws Exception
+  {
+    Files.deleteIfExists(federateHandler.getPath());
+  }
+
+  @Test
+  public void testOpen()
+    throws Exception
+  {
+    TestChannel rtiChannel = createRTIChannel();
+
+    openSharedMemory(rtiChannel, federateHandler.getPath().toString(), federateHandler.getToken(), true);
+
+    assert rtiChannel.getPipeline().get(CoalescingWriteHandler.NAME) == null;
+    assert rtiChannel.getPipeline().get(SharedMemoryChannelHandler.NAME) instanceof SharedMemoryChannelHandler;
+
+    ChannelPipeline federatePipeline = Channels.pipeline();
+    federatePipeline.addLast(SharedMemoryChannelHandler.NAME, federateHandler);
+    federatePipeline.addLast(TEST_HANDLER, new TestHandler());
+    TestChannel federateChannel = new TestChannel(federatePipeline, LOOPBACK_ADDRESS);
+
+    try
+    {
+      // both directions go through the rings, the socket is no longer written to
+      //
+      federateHandler.startWriting();
+
+      Channels.write(federateChannel, ChannelBuffers.wrappedBuffer(new byte[] { 1, 2, 3 }));
+      Channels.write(rtiChannel, ChannelBuffers.wrappedBuffer(new byte[] { 4, 5 }));
+
+      checkReceived(rtiChannel, 1, 2, 3);
+      checkReceived(federateChannel, 4, 5);
+
+      assert !federateChannel.getWritten().readable();
+      assert !rtiChannel.getWritten().readable();
+    }
+    finally
+    {
+      Channels.close(federateChannel);
+      Channels.close(rtiChannel);
+    }
+  }
+
+  @Test
+  public void testOpenWithWrongToken()
+    throws Exception
+  {
+    TestChannel rtiChannel = createRTIChannel();
+
+    openSharedMemory(rtiChannel, federateHandler.getPath().toString(), federateHandler.getToken() + 1, false);
+
+    checkStillOnSocket(rtiChannel);
+
+    try
+    {
+      SharedMemoryChannelHandler.open(federateHandler.getPath(), federateHandler.getToken() + 1);
+      assert false;
+    }
+    catch (IOException ioe)
+    {
+    }
+  }
+
+  @Test
+  public void testOpenMissingFile()
+    throws Exception
+  {
+    Path path = federateHandler.getPath().resolveSibling(federateHandler.getPath().getFileName() + ".missing");
+
+    TestChannel rtiChannel = createRTIChannel();
+
+    openSharedMemory(rtiChannel, path.toString(), federateHandler.getToken(), false);
+
+    checkStillOnSocket(rtiChannel);
+  }
+
+  @Test
+  public void testOpenTruncatedFile()
+    throws Exception
+  {
+    Path path = Files.createTempFile(SharedMemoryChannelHandler.getDefaultDirectory(), "ohla-", ".shm");
+    try
+    {
+      TestChannel rtiChannel = createRTIChannel();
+
+      openSharedMemory(rtiChannel, path.toString(), federateHandler.getToken(), false);
+
+      checkStillOnSocket(rtiChannel);
+    }
+    finally
+    {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  public void testOpenFromRemoteFederate()
+    throws Exception
+  {
+    // the right shared memory and token, but the federate is not connected over the loopback interface
+    //
+    TestChannel rtiChannel = createRTIChannel(new InetSocketAddress(InetAddress.getByName("192.0.2.1"), 15000));
+
+    openSharedMemory(rtiChannel, federateHandler.getPath().toString(), federateHandler.getToken(), false);
+
+    checkStillOnSocket(rtiChannel);
+  }
+
+  @Test
+  public void testOpenOutsideDirectory()
+    throws Exception
+  {
+    Path directory = Files.createTempDirectory(SharedMemoryChannelHandler.getDefaultDirectory(), "ohla-");
+    SharedMemoryChannelHandler handler =
+      SharedMemoryChannelHandler.create(directory, SharedMemoryChannelHandler.MIN_CAPACITY);
+    Path link = federateHandler.getPath().resolveSibling(federateHandler.getPath().getFileName() + ".link");
+    try
+    {
+      // valid shared memory, but below the shared memory directory
+      //
+      TestChannel rtiChannel = createRTIChannel();
+
+      openSharedMemory(rtiChannel, handler.getPath().toString(), handler.getToken(), false);
+
+      checkStillOnSocket(rtiChannel);
+
+      // named through the shared memory directory, but only by following a link out of it
+      //
+      Files.createSymbolicLink(link, handler.getPath());
+
+      rtiChannel = createRTIChannel();
+
+      openSharedMemory(rtiChannel, link.toString(), handler.getToken(), false);
+
+      checkStillOnSocket(rtiChannel);
+    }
+    finally
+    {
+      Files.deleteIfExists(link);
+      Files.deleteIfExists(handler.getPath());
+      Files.deleteIfExists(directory);
+    }
+  }
+
+  private TestChannel createRTIChannel()
+  {
+    return createRTIChannel(LOOPBACK_ADDRESS);
+  }
+
+  private TestChannel createRTIChannel(SocketAddress remoteAddress)
+  {
+    ChannelPipeline pipeline = Channels.pipeline();
+    pipeline.addLast(CoalescingWriteHandler.NAME, new CoalescingWriteHandler());
+    pipeline.addLast(TEST_HANDLER, new TestHandler());
+
+    return new TestChannel(pipeline, remoteAddress);
+  }
+
+  private void openSharedMemory(TestChannel rtiChannel, String path, long token, boolean success)
+    throws Exception
+  {
+    ChannelHandlerContext context = rtiChannel.getPipeline().getContext(TEST_HANDLER);
+
+    RTI.getEmbeddedRTI().openSharedMemory(context, new OpenSharedMemory(path, token));
+
+    Object response = rtiChannel.getTestHandler().written.poll(0L, TimeUnit.SECONDS);
+    assert response instanceof OpenSharedMemoryResponse : response;
+    assert ((OpenSharedMemoryResponse) response).isSuccess() == success;
+
+    if (!success)
+    {
+      assert ((OpenSharedMemoryResponse) response).getFailure().getCause() ==
+             ConnectedMessageProtos.OpenSharedMemoryResponse.Failure.Cause.UNABLE_TO_OPEN_SHARED_MEMORY;
+    }
+  }
+
+  private void checkStillOnSocket(TestChannel rtiChannel)
+  {
+    assert rtiChannel.getPipeline().get(CoalescingWriteHandler.NAME) instanceof CoalescingWriteHandler;
+    assert rtiChannel.getPipeline().get(SharedMemoryChannelHandler.NAME) == null;
+
+    Channels.write(rtiChannel, ChannelBuffers.wrappedBuffer(new byte[] { 1, 2, 3 }));
+
+    // the test channel runs the coalescing write handler's flush straight away, in place of an I/O thread
+    //
+    assert rtiChannel.getWritten().readableBytes() == 3;
+  }
+
+  private void checkReceived(TestChannel channel, int... expected)
+    throws Exception
+  {
+    ChannelBuffer received = ChannelBuffers.dynamicBuffer();
+    while (received.readableBytes() < expected.length)
+    {
+      ChannelBuffer buffer = channel.getTestHandler().received.poll(10L, TimeUnit.SECONDS);
+      assert buffer != null;
+      received.writeBytes(buffer);
+    }
+
+    assert received.readableBytes() == expected.length;
+    for (int b : expected)
+    {
+      assert received.readByte() == b;
+    }
+  }
+
+  /**
+   * Records what is delivered to the top of the pipeline and takes the writes of anything that is not yet encoded.
+   */
+  private static class TestHandler
+    extends SimpleChannelHandler
+  {
+    private final BlockingQueue<ChannelBuffer> received = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Object> written = new LinkedBlockingQueue<>();
+
+    @Override
+    public void messageReceived(ChannelHandlerContext context, MessageEvent event)
+    {
+      received.add((ChannelBuffer) event.getMessage());
+    }
+
+    @Override
+    public void writeRequested(ChannelHandlerContext context, MessageEvent event)
+      throws Exception
+    {
+      if (event.getMessage() instanceof ChannelBuffer)
+      {
+        super.writeRequested(context, event);
+      }
+      else
+      {
+        written.add(event.getMessage());
+
+        event.getFuture().setSuccess();
+      }
+    }
+  }
+
+  private static class TestChannel
+    extends AbstractChannel
+  {
+    private final ChannelConfig config = new DefaultChannelConfig();
+
+    /**
+     * What was written to the socket.
+     */
+    private final ChannelBuffer written = ChannelBuffers.dynamicBuffer();
+
+    private final SocketAddress remoteAddress;
+
+    private TestChannel(ChannelPipeline pipeline, SocketAddress remoteAddress)
+    {
+      super(null, null, pipeline, new TestChannelSink());
+
+      this.remoteAddress = remoteAddress;
+    }
+
+    public TestHandler getTestHandler()
+    {
+      return (TestHandler) getPipeline().get(TEST_HANDLER);
+    }
+
+    public synchronized ChannelBuffer getWritten()
+    {
+      return written.duplicate();
+    }
+
+    public ChannelConfig getConfig()
+    {
+      return config;
+    }
+
+    public boolean isBound()
+    {
+      return isOpen();
+    }
+
+    public boolean isConnected()
+    {
+      return isOpen();
+    }
+
+    public SocketAddress getLocalAddress()
+    {
+      return null;
+    }
+
+    public SocketAddress getRemoteAddress()
+    {
+      return remoteAddress;
+    }
+
+    private synchronized void written(ChannelBuffer buffer)
+    {
+      written.writeBytes(buffer, buffer.readerIndex(), buffer.readableBytes());
+    }
+
+    private void closed()
+    {
+      if (setClosed())
+      {
+        Channels.fireChannelClosed(this);
+      }
+    }
+  }
+
+  private static class TestChannelSink
+    extends AbstractChannelSink
+  {
+    public void eventSunk(ChannelPipeline pipeline, ChannelEvent event)
+    {
+      TestChannel channel = (TestChannel) event.getChannel();
+      if (event instanceof MessageEvent)
+      {
+        channel.written((ChannelBuffer) ((MessageEvent) event).getMessage());
+      }
+      else if (event instanceof ChannelStateEvent &&
+               ((ChannelStateEvent) event).getState() == ChannelState.OPEN &&
+               Boolean.FALSE.equals(((ChannelStateEvent) event).getValue()))
+      {
+        channel.closed();
+      }
+
+      event.getFuture().setSuccess();
+    }
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.messages;
+
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import net.sf.ohla.rti.messages.SharedMemoryRing;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Moves bytes through a {@link SharedMemoryRing} small enough that every test wraps it. The producer and the consumer
+ * are separate rings over the same memory, as they are in the federate and the RTI.
+ */
+@Test
+public class SharedMemoryRingTestNG
+{
+  private static final int CAPACITY = 64;
+
+  /**
+   * Where the ring starts, not at the start of the memory so the offset is taken into account.
+   */
+  private static final int OFFSET = 64;
+
+  private Path path;
+  private MappedByteBuffer buffer;
+
+  private SharedMemoryRing producer;
+  private SharedMemoryRing consumer;
+
+  /**
+   * The next byte the producer writes.
+   */
+  private byte written;
+
+  /**
+   * The next byte the consumer expects.
+   */
+  private byte read;
+
+  @BeforeMethod
+  public void setup()
+    throws Exception
+  {
+    path = Files.createTempFile("ohla-", ".shm");
+
+    try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE))
+    {
+      buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, OFFSET + SharedMemoryRing.length(CAPACITY));
+    }
+
+    producer = new SharedMemoryRing(buffer, OFFSET, CAPACITY);
+    consumer = new SharedMemoryRing(buffer, OFFSET, CAPACITY);
+
+    written = 0;
+    read = 0;
+  }
+
+  @AfterMethod
+  public void teardown()
+    throws Exception
+  {
+    Files.deleteIfExists(path);
+  }
+
+  @Test
+  public void testWrapAround()
+  {
+    checkWrite(40, 40);
+    checkRead(40);
+
+    // the tail passes the end of the ring, and so does the head when it is read
+    //
+    checkWrite(40, 40);
+    checkRead(40);
+
+    assert consumer.read() == null;
+  }
+
+  @Test
+  public void testFull()
+  {
+    checkWrite(50, 50);
+    checkRead(50);
+
+    // only what there is room for is copied, wrapping
+    //
+    ChannelBuffer bytes = next(CAPACITY + 16);
+    assert producer.write(bytes, bytes.readerIndex(), bytes.readableBytes()) == CAPACITY;
+    assert producer.write(bytes, bytes.readerIndex() + CAPACITY, 16) == 0;
+
+    checkRead(CAPACITY);
+
+    // the rest goes in once the consumer has made room
+    //
+    assert producer.write(bytes, bytes.readerIndex() + CAPACITY, 16) == 16;
+
+    checkRead(16);
+
+    assert consumer.read() == null;
+  }
+
+  @Test
+  public void testCachedPositions()
+  {
+    checkWrite(20, 20);
+    checkRead(20);
+
+    // the producer's cached head is still 0, only re-reading it shows there is room for a whole ring
+    //
+    checkWrite(CAPACITY, CAPACITY);
+
+    checkRead(CAPACITY);
+
+    // the consumer's cached tail is now its head, the next write is only seen by re-reading it
+    //
+    assert consumer.read() == null;
+
+    checkWrite(30, 30);
+    checkRead(30);
+
+    // a ring over memory that is already in use picks up where the others left off
+    //
+    SharedMemoryRing reopened = new SharedMemoryRing(buffer, OFFSET, CAPACITY);
+    assert reopened.read() == null;
+
+    checkWrite(CAPACITY, CAPACITY);
+
+    consumer = reopened;
+    checkRead(CAPACITY);
+  }
+
+  @Test
+  public void testManyRounds()
+  {
+    Random random = new Random(0L);
+
+    // the positions grow well past the capacity and wrap at every offset
+    //
+    for (int i = 0; i < 10000; i++)
+    {
+      int length = 1 + random.nextInt(CAPACITY);
+      checkWrite(length, length);
+      checkRead(length);
+    }
+  }
+
+  /**
+   * Fails rather than spinning forever if a side never sees the other's position move.
+   */
+  @Test(timeOut = 60000L)
+  public void testConcurrently()
+    throws Exception
+  {
+    final int length = 1024 * 1024;
+
+    Thread producerThread = new Thread(new Runnable()
+    {
+      public void run()
+      {
+        Random random = new Random(0L);
+
+        ChannelBuffer bytes = next(length);
+        while (bytes.readable())
+        {
+          int copied = producer.write(bytes, bytes.readerIndex(), Math.min(
+            bytes.readableBytes(), 1 + random.nextInt(CAPACITY * 2)));
+          bytes.skipBytes(copied);
+
+          if (copied == 0)
+          {
+            Thread.yield();
+          }
+        }
+      }
+    }, SharedMemoryRingTestNG.class.getSimpleName());
+    producerThread.start();
+
+    int remaining = length;
+    while (remaining > 0)
+    {
+      ChannelBuffer bytes = consumer.read();
+      if (bytes == null)
+      {
+        Thread.yield();
+      }
+      else
+      {
+        assert bytes.readableBytes() <= CAPACITY;
+
+        remaining -= bytes.readableBytes();
+        check(bytes);
+      }
+    }
+
+    producerThread.join();
+
+    assert consumer.read() == null;
+  }
+
+  private void checkWrite(int length, int expected)
+  {
+    ChannelBuffer bytes = next(length);
+
+    // the bytes are read from the specified index without moving the reader index
+    //
+    assert producer.write(bytes, bytes.readerIndex(), bytes.readableBytes()) == expected;
+    assert bytes.readableBytes() == length;
+  }
+
+  private void checkRead(int length)
+  {
+    ChannelBuffer bytes = consumer.read();
+    assert bytes != null && bytes.readableBytes() == length : bytes;
+    check(bytes);
+  }
+
+  private ChannelBuffer next(int length)
+  {
+    ChannelBuffer bytes = ChannelBuffers.buffer(length);
+    for (int i = 0; i < length; i++)
+    {
+      bytes.writeByte(written++);
+    }
+    return bytes;
+  }
+
+  private void check(ChannelBuffer bytes)
+  {
+    while (bytes.readable())
+    {
+      byte b = bytes.readByte();
+      assert b == read : b + " != " + read;
+      read++;
+    }
+  }
+}
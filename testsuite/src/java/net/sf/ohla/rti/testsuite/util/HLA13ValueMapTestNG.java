@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.sf.ohla.rti.hla.rti.HLA13ReceivedInteraction;
+import net.sf.ohla.rti.hla.rti.HLA13ReflectedAttributes;
+import net.sf.ohla.rti.hla.rti.HLA13SuppliedAttributes;
+import net.sf.ohla.rti.hla.rti.HLA13SuppliedParameters;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eParameterHandle;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+import net.sf.ohla.rti.util.AttributeValues;
+import net.sf.ohla.rti.util.LazyAttributeHandleValueMap;
+import net.sf.ohla.rti.util.LazyParameterHandleValueMap;
+import net.sf.ohla.rti.util.ParameterValues;
+
+import org.testng.annotations.Test;
+
+/**
+ * Sends HLA 1.3 supplied attributes and parameters the way the RTI ambassador does and reads them back through the
+ * views the federate ambassador bridge hands to an HLA 1.3 federate, with the supplied values changed both through
+ * the HLA 1.3 methods and through the {@link Map} methods they inherit.
+ */
+@Test
+public class HLA13ValueMapTestNG
+{
+  private static final byte[] VALUE1 = { 1 };
+  private static final byte[] VALUE2 = { 2, 2 };
+  private static final byte[] VALUE3 = { 3, 3, 3 };
+  private static final byte[] VALUE4 = { 4, 4, 4, 4 };
+
+  @Test
+  public void testSuppliedAttributes()
+    throws Exception
+  {
+    HLA13SuppliedAttributes suppliedAttributes = new HLA13SuppliedAttributes();
+    suppliedAttributes.add(1, VALUE1);
+    suppliedAttributes.add(2, VALUE2);
+    suppliedAttributes.add(3, VALUE3);
+
+    // changed behind the back of the indexed HLA 1.3 methods
+    //
+    suppliedAttributes.put(new IEEE1516eAttributeHandle(4), VALUE4);
+    suppliedAttributes.remove(new IEEE1516eAttributeHandle(1));
+    suppliedAttributes.put(new IEEE1516eAttributeHandle(2), VALUE1);
+
+    // removed by handle, not by index
+    //
+    suppliedAttributes.remove(3);
+
+    Map<Integer, byte[]> expected = new HashMap<>();
+    expected.put(2, VALUE1);
+    expected.put(4, VALUE4);
+
+    checkReflectedAttributes(suppliedAttributes, expected);
+
+    suppliedAttributes.empty();
+
+    checkReflectedAttributes(suppliedAttributes, new HashMap<Integer, byte[]>());
+  }
+
+  @Test
+  public void testSuppliedParameters()
+    throws Exception
+  {
+    HLA13SuppliedParameters suppliedParameters = new HLA13SuppliedParameters();
+    suppliedParameters.add(1, VALUE1);
+    suppliedParameters.add(2, VALUE2);
+    suppliedParameters.add(3, VALUE3);
+
+    // changed behind the back of the indexed HLA 1.3 methods
+    //
+    suppliedParameters.put(new IEEE1516eParameterHandle(4), VALUE4);
+    suppliedParameters.remove(new IEEE1516eParameterHandle(1));
+    suppliedParameters.put(new IEEE1516eParameterHandle(2), VALUE1);
+
+    // removed by handle, not by index
+    //
+    suppliedParameters.remove(3);
+
+    Map<Integer, byte[]> expected = new HashMap<>();
+    expected.put(2, VALUE1);
+    expected.put(4, VALUE4);
+
+    checkReceivedInteraction(suppliedParameters, expected);
+
+    suppliedParameters.empty();
+
+    checkReceivedInteraction(suppliedParameters, new HashMap<Integer, byte[]>());
+  }
+
+  private void checkReflectedAttributes(HLA13SuppliedAttributes suppliedAttributes, Map<Integer, byte[]> expected)
+    throws Exception
+  {
+    List<MessageProtos.AttributeValue> attributeValueProtos = new ArrayList<>();
+    for (MessageProtos.AttributeValue attributeValueProto : AttributeValues.convert(suppliedAttributes))
+    {
+      attributeValueProtos.add(MessageProtos.AttributeValue.parseFrom(attributeValueProto.toByteString()));
+    }
+
+    // the view the received message is reflected through, it hands the message's values on as they are
+    //
+    LazyAttributeHandleValueMap attributeValues = new LazyAttributeHandleValueMap(attributeValueProtos);
+    assert attributeValues.equals(suppliedAttributes);
+    assert attributeValues.getValueProtos() == attributeValueProtos;
+
+    HLA13ReflectedAttributes reflectedAttributes =
+      new HLA13ReflectedAttributes(attributeValues.getValueProtos(), 0, 0);
+
+    Map<Integer, byte[]> reflected = new HashMap<>();
+    for (int i = 0; i < reflectedAttributes.size(); i++)
+    {
+      assert reflectedAttributes.getValueLength(i) == reflectedAttributes.getValueReference(i).length;
+      assert reflected.put(reflectedAttributes.getAttributeHandle(i), reflectedAttributes.getValue(i)) == null;
+    }
+    check(expected, reflected);
+  }
+
+  private void checkReceivedInteraction(HLA13SuppliedParameters suppliedParameters, Map<Integer, byte[]> expected)
+    throws Exception
+  {
+    List<MessageProtos.ParameterValue> parameterValueProtos = new ArrayList<>();
+    for (MessageProtos.ParameterValue parameterValueProto : ParameterValues.convert(suppliedParameters))
+    {
+      parameterValueProtos.add(MessageProtos.ParameterValue.parseFrom(parameterValueProto.toByteString()));
+    }
+
+    // the view the received message is received through, it hands the message's values on as they are
+    //
+    LazyParameterHandleValueMap parameterValues = new LazyParameterHandleValueMap(parameterValueProtos);
+    assert parameterValues.equals(suppliedParameters);
+    assert parameterValues.getValueProtos() == parameterValueProtos;
+
+    HLA13ReceivedInteraction receivedInteraction =
+      new HLA13ReceivedInteraction(parameterValues.getValueProtos(), 0, 0);
+
+    Map<Integer, byte[]> received = new HashMap<>();
+    for (int i = 0; i < receivedInteraction.size(); i++)
+    {
+      assert receivedInteraction.getValueLength(i) == receivedInteraction.getValueReference(i).length;
+      assert received.put(receivedInteraction.getParameterHandle(i), receivedInteraction.getValue(i)) == null;
+    }
+    check(expected, received);
+  }
+
+  private void check(Map<Integer, byte[]> expected, Map<Integer, byte[]> actual)
+  {
+    assert expected.keySet().equals(actual.keySet()) : actual.keySet();
+
+    for (Map.Entry<Integer, byte[]> entry : expected.entrySet())
+    {
+      assert Arrays.equals(entry.getValue(), actual.get(entry.getKey())) : entry.getKey();
+    }
+  }
+}
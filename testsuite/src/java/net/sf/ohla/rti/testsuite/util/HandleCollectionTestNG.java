@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandleSet;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandleValueMap;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+import net.sf.ohla.rti.util.LazyAttributeHandleValueMap;
+
+import org.testng.annotations.Test;
+
+import com.google.protobuf.ByteString;
+import hla.rti1516e.AttributeHandle;
+import hla.rti1516e.AttributeHandleSet;
+import hla.rti1516e.AttributeHandleValueMap;
+
+/**
+ * Checks the handle sets and handle value maps backed by primitive keyed tables with handles of another RTI
+ * implementation, which are kept on the side, and that map entries compare their values by content.
+ */
+@Test
+public class HandleCollectionTestNG
+{
+  private static final AttributeHandle ATTRIBUTE1 = new IEEE1516eAttributeHandle(1);
+  private static final AttributeHandle ATTRIBUTE2 = new IEEE1516eAttributeHandle(2);
+
+  private static final AttributeHandle FOREIGN_ATTRIBUTE1 = new ForeignAttributeHandle(1);
+  private static final AttributeHandle FOREIGN_ATTRIBUTE2 = new ForeignAttributeHandle(2);
+
+  @Test
+  public void testForeignHandleSet()
+    throws Exception
+  {
+    AttributeHandleSet attributeHandles = new IEEE1516eAttributeHandleSet();
+
+    assert attributeHandles.add(ATTRIBUTE1);
+    assert attributeHandles.add(FOREIGN_ATTRIBUTE1);
+    assert !attributeHandles.add(new ForeignAttributeHandle(1));
+    assert attributeHandles.add(FOREIGN_ATTRIBUTE2);
+
+    assert attributeHandles.size() == 3;
+    assert attributeHandles.contains(ATTRIBUTE1);
+    assert attributeHandles.contains(FOREIGN_ATTRIBUTE1);
+    assert !attributeHandles.contains(ATTRIBUTE2);
+
+    assert attributeHandles.equals(new HashSet<>(Arrays.asList(ATTRIBUTE1, FOREIGN_ATTRIBUTE1, FOREIGN_ATTRIBUTE2)));
+    assert attributeHandles.equals(attributeHandles.clone());
+    assert attributeHandles.equals(serialize(attributeHandles));
+
+    assert attributeHandles.remove(FOREIGN_ATTRIBUTE1);
+    assert !attributeHandles.remove(FOREIGN_ATTRIBUTE1);
+    assert attributeHandles.size() == 2;
+
+    List<AttributeHandle> iterated = new ArrayList<>();
+    for (Iterator<AttributeHandle> i = attributeHandles.iterator(); i.hasNext();)
+    {
+      iterated.add(i.next());
+      i.remove();
+    }
+
+    assert iterated.size() == 2 && iterated.containsAll(Arrays.asList(ATTRIBUTE1, FOREIGN_ATTRIBUTE2)) : iterated;
+    assert attributeHandles.isEmpty();
+  }
+
+  @Test
+  public void testForeignHandleValueMap()
+    throws Exception
+  {
+    AttributeHandleValueMap attributeValues = new IEEE1516eAttributeHandleValueMap();
+
+    assert attributeValues.put(ATTRIBUTE1, new byte[] { 1 }) == null;
+    assert attributeValues.put(FOREIGN_ATTRIBUTE1, new byte[] { 2 }) == null;
+    assert Arrays.equals(new byte[] { 2 }, attributeValues.put(new ForeignAttributeHandle(1), new byte[] { 3 }));
+
+    assert attributeValues.size() == 2;
+    assert Arrays.equals(new byte[] { 1 }, attributeValues.get(ATTRIBUTE1));
+    assert Arrays.equals(new byte[] { 3 }, attributeValues.get(FOREIGN_ATTRIBUTE1));
+    assert !attributeValues.containsKey(FOREIGN_ATTRIBUTE2);
+
+    AttributeHandleValueMap copy = new IEEE1516eAttributeHandleValueMap(attributeValues);
+    assert attributeValues.equals(copy);
+    assert attributeValues.hashCode() == copy.hashCode();
+    assert attributeValues.equals(serialize(attributeValues));
+
+    assert Arrays.equals(new byte[] { 3 }, attributeValues.remove(FOREIGN_ATTRIBUTE1));
+    assert attributeValues.remove(FOREIGN_ATTRIBUTE1) == null;
+    assert attributeValues.size() == 1;
+    assert attributeValues.entrySet().size() == 1;
+  }
+
+  @Test
+  public void testEntriesCompareValuesByContent()
+  {
+    AttributeHandleValueMap eager = new IEEE1516eAttributeHandleValueMap();
+    eager.put(ATTRIBUTE1, new byte[] { 1 });
+    eager.put(ATTRIBUTE2, new byte[] { 2, 2 });
+
+    List<MessageProtos.AttributeValue> attributeValues = new ArrayList<>();
+    attributeValues.add(MessageProtos.AttributeValue.newBuilder().setAttributeHandle(1).setValue(
+      ByteString.copyFrom(new byte[] { 1 })).build());
+    attributeValues.add(MessageProtos.AttributeValue.newBuilder().setAttributeHandle(2).setValue(
+      ByteString.copyFrom(new byte[] { 2, 2 })).build());
+    AttributeHandleValueMap lazy = new LazyAttributeHandleValueMap(attributeValues);
+
+    assert eager.entrySet().equals(lazy.entrySet());
+    assert lazy.entrySet().equals(eager.entrySet());
+    assert eager.entrySet().hashCode() == lazy.entrySet().hashCode();
+
+    for (Map.Entry<AttributeHandle, byte[]> entry : eager.entrySet())
+    {
+      assert lazy.entrySet().contains(entry) : entry;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T serialize(T t)
+    throws Exception
+  {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(out))
+    {
+      oos.writeObject(t);
+    }
+
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray())))
+    {
+      return (T) ois.readObject();
+    }
+  }
+
+  /**
+   * An attribute handle of another RTI implementation.
+   */
+  private static class ForeignAttributeHandle
+    implements AttributeHandle
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final int handle;
+
+    private ForeignAttributeHandle(int handle)
+    {
+      this.handle = handle;
+    }
+
+    public int encodedLength()
+    {
+      return 4;
+    }
+
+    public void encode(byte[] buffer, int offset)
+    {
+      buffer[offset] = (byte) (handle >>> 24);
+      buffer[offset + 1] = (byte) (handle >>> 16);
+      buffer[offset + 2] = (byte) (handle >>> 8);
+      buffer[offset + 3] = (byte) handle;
+    }
+
+    @Override
+    public boolean equals(Object rhs)
+    {
+      return this == rhs || (rhs instanceof ForeignAttributeHandle && handle == ((ForeignAttributeHandle) rhs).handle);
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return handle;
+    }
+
+    @Override
+    public String toString()
+    {
+      return "foreign-" + handle;
+    }
+  }
+}
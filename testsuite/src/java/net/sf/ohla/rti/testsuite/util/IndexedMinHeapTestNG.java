@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import net.sf.ohla.rti.util.IndexedMinHeap;
+
+import org.testng.annotations.Test;
+
+/**
+ * Checks an {@link IndexedMinHeap} against the least values found by scanning every key, with many keys sharing a
+ * value so that the key holding the least value is ambiguous.
+ */
+@Test
+public class IndexedMinHeapTestNG
+{
+  @Test
+  public void testEqualValues()
+  {
+    IndexedMinHeap<String, Integer> heap = new IndexedMinHeap<>();
+
+    heap.put("a", 1);
+    heap.put("b", 1);
+    heap.put("c", 1);
+
+    // every key sees the same least value, whichever key is at the root
+    //
+    assert heap.peekValue() == 1;
+    assert heap.peekValueExcluding("a") == 1;
+    assert heap.peekValueExcluding("b") == 1;
+    assert heap.peekValueExcluding("c") == 1;
+
+    // moving the root past the others leaves one of the others at the root
+    //
+    String root = heap.peekKey();
+    heap.put(root, 2);
+
+    assert !root.equals(heap.peekKey());
+    assert heap.peekValue() == 1;
+    assert heap.peekValueExcluding(root) == 1;
+    assert heap.peekValueExcluding(heap.peekKey()) == 1;
+
+    // removing the root leaves the last key holding the least value alone
+    //
+    heap.remove(heap.peekKey());
+
+    assert heap.size() == 2;
+    assert heap.peekValue() == 1;
+    assert heap.peekValueExcluding(heap.peekKey()) == 2;
+    assert heap.peekValueExcluding(root) == 1;
+  }
+
+  @Test
+  public void testUpdate()
+  {
+    IndexedMinHeap<String, Integer> heap = new IndexedMinHeap<>();
+
+    heap.put("a", 5);
+    heap.put("b", 3);
+    heap.put("c", 7);
+
+    assert heap.peekKey().equals("b");
+    assert heap.peekValueExcluding("b") == 5;
+
+    // the root moves down
+    //
+    heap.put("b", 6);
+
+    assert heap.size() == 3;
+    assert heap.peekKey().equals("a");
+    assert heap.peekValueExcluding("a") == 6;
+    assert heap.get("b") == 6;
+
+    // a leaf moves up
+    //
+    heap.put("c", 1);
+
+    assert heap.peekKey().equals("c");
+    assert heap.peekValue() == 1;
+    assert heap.peekValueExcluding("c") == 5;
+    assert heap.peekValueExcluding("a") == 1;
+  }
+
+  @Test
+  public void testRemove()
+  {
+    // a leaf under 10, its replacement is the last entry, 5, which has to move up past 12 and 10
+    //
+    IndexedMinHeap<Integer, Integer> heap = createHeap();
+    assert heap.remove(15) == 15;
+    assert heap.peekValueExcluding(0) == 1;
+    checkDrain(heap, 0, 1, 2, 3, 4, 5, 10, 11, 12, 13, 14, 16, 17, 18);
+
+    // an inner entry, its replacement is then the last entry, 4, which has to move down past 2
+    //
+    heap = createHeap();
+    heap.remove(15);
+    assert heap.remove(1) == 1;
+    assert heap.peekValueExcluding(0) == 2;
+    checkDrain(heap, 0, 2, 3, 4, 5, 10, 11, 12, 13, 14, 16, 17, 18);
+
+    // the root
+    //
+    heap = createHeap();
+    heap.remove(15);
+    heap.remove(1);
+    assert heap.remove(0) == 0;
+    assert heap.peekKey() == 2;
+    assert heap.peekValueExcluding(2) == 3;
+    checkDrain(heap, 2, 3, 4, 5, 10, 11, 12, 13, 14, 16, 17, 18);
+
+    heap = createHeap();
+    assert heap.remove(100) == null;
+    assert heap.size() == 15;
+
+    heap.clear();
+    assert heap.isEmpty();
+    assert heap.peekKey() == null;
+    assert heap.peekValue() == null;
+    assert heap.peekValueExcluding(2) == null;
+  }
+
+  @Test
+  public void testAgainstScan()
+  {
+    Random random = new Random(0L);
+
+    IndexedMinHeap<Integer, Integer> heap = new IndexedMinHeap<>();
+    Map<Integer, Integer> values = new HashMap<>();
+
+    // few distinct values so that many keys share the least value
+    //
+    for (int i = 0; i < 10000; i++)
+    {
+      Integer key = random.nextInt(40);
+      if (random.nextInt(4) == 0)
+      {
+        assert Objects.equals(heap.remove(key), values.remove(key));
+      }
+      else
+      {
+        Integer value = random.nextInt(8);
+        heap.put(key, value);
+        values.put(key, value);
+      }
+
+      assert heap.size() == values.size();
+
+      Integer least = leastExcluding(values, null);
+      assert Objects.equals(heap.peekValue(), least);
+      assert least == null ? heap.peekKey() == null : values.get(heap.peekKey()).equals(least);
+
+      for (Integer k : values.keySet())
+      {
+        assert heap.get(k).equals(values.get(k));
+        assert Objects.equals(heap.peekValueExcluding(k), leastExcluding(values, k)) : k;
+      }
+      assert Objects.equals(heap.peekValueExcluding(-1), least);
+    }
+  }
+
+  private IndexedMinHeap<Integer, Integer> createHeap()
+  {
+    IndexedMinHeap<Integer, Integer> heap = new IndexedMinHeap<>();
+
+    // each value is at least its parent's, so the heap holds them in this order
+    //
+    for (int value : new int[] { 0, 10, 1, 11, 12, 2, 3, 13, 14, 15, 16, 17, 18, 4, 5 })
+    {
+      heap.put(value, value);
+    }
+    return heap;
+  }
+
+  /**
+   * Takes the least value out of the heap until it is empty, which only comes out in order if every removal left the
+   * heap in order.
+   */
+  private void checkDrain(IndexedMinHeap<Integer, Integer> heap, int... expected)
+  {
+    assert heap.size() == expected.length;
+
+    for (int value : expected)
+    {
+      assert heap.get(value) == value;
+    }
+
+    for (int value : expected)
+    {
+      assert heap.peekValue() == value : heap.peekValue() + " != " + value;
+      assert heap.remove(heap.peekKey()) == value;
+    }
+
+    assert heap.isEmpty();
+  }
+
+  private Integer leastExcluding(Map<Integer, Integer> values, Integer excluded)
+  {
+    Integer least = null;
+    for (Map.Entry<Integer, Integer> entry : values.entrySet())
+    {
+      if (!entry.getKey().equals(excluded) && (least == null || entry.getValue() < least))
+      {
+        least = entry.getValue();
+      }
+    }
+    return least;
+  }
+}
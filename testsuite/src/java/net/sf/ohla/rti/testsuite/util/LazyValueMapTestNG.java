@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2005-2011, Michael Newcomb
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.sf.ohla.rti.testsuite.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandle;
+import net.sf.ohla.rti.hla.rti1516e.IEEE1516eAttributeHandleValueMap;
+import net.sf.ohla.rti.messages.proto.MessageProtos;
+import net.sf.ohla.rti.util.LazyAttributeHandleValueMap;
+
+import org.testng.annotations.Test;
+
+import com.google.protobuf.ByteString;
+import hla.rti1516e.AttributeHandle;
+import hla.rti1516e.AttributeHandleValueMap;
+
+/**
+ * Checks that a {@link LazyAttributeHandleValueMap} only copies values out of the message when asked for them and
+ * that it compares and hashes its values by content, like the map it is copied into.
+ */
+@Test
+public class LazyValueMapTestNG
+{
+  private static final AttributeHandle ATTRIBUTE1 = new IEEE1516eAttributeHandle(1);
+  private static final AttributeHandle ATTRIBUTE2 = new IEEE1516eAttributeHandle(2);
+  private static final AttributeHandle ATTRIBUTE3 = new IEEE1516eAttributeHandle(3);
+
+  private static final byte[] VALUE1 = { 1 };
+  private static final byte[] VALUE2 = { 2, 2 };
+  private static final byte[] VALUE3 = { 3, 3, 3 };
+
+  @Test
+  public void testLazyCopy()
+  {
+    AttributeHandleValueMap map = createLazyMap();
+
+    assert map.size() == 2;
+    assert map.containsKey(ATTRIBUTE1);
+    assert !map.containsKey(ATTRIBUTE3);
+
+    // copied out of the message once and kept
+    //
+    byte[] value1 = map.get(ATTRIBUTE1);
+    assert Arrays.equals(VALUE1, value1);
+    assert map.get(ATTRIBUTE1) == value1;
+
+    // replaced in place
+    //
+    assert map.put(ATTRIBUTE2, VALUE3) != null;
+    assert map.get(ATTRIBUTE2) == VALUE3;
+    assert map.size() == 2;
+
+    // adding a handle copies the view, values already copied out are carried over
+    //
+    assert map.put(ATTRIBUTE3, VALUE3) == null;
+    assert map.size() == 3;
+    assert map.get(ATTRIBUTE1) == value1;
+    assert map.get(ATTRIBUTE2) == VALUE3;
+    assert map.get(ATTRIBUTE3) == VALUE3;
+
+    assert Arrays.equals(VALUE1, map.remove(ATTRIBUTE1));
+    assert map.size() == 2;
+    assert !map.containsKey(ATTRIBUTE1);
+  }
+
+  @Test
+  public void testRemoveInPlace()
+  {
+    AttributeHandleValueMap map = createLazyMap();
+
+    assert Arrays.equals(VALUE2, map.remove(ATTRIBUTE2));
+    assert map.remove(ATTRIBUTE2) == null;
+    assert map.size() == 1;
+    assert map.keySet().equals(new IEEE1516eAttributeHandleValueMap(map).keySet());
+  }
+
+  @Test
+  public void testEquals()
+  {
+    AttributeHandleValueMap lazy = createLazyMap();
+    AttributeHandleValueMap eager = createEagerMap();
+
+    // equal values are never the same arrays
+    //
+    assert lazy.get(ATTRIBUTE1) != eager.get(ATTRIBUTE1);
+
+    assert lazy.equals(eager);
+    assert eager.equals(lazy);
+    assert lazy.equals(createLazyMap());
+
+    eager.put(ATTRIBUTE2, VALUE3);
+
+    assert !lazy.equals(eager);
+    assert !eager.equals(lazy);
+
+    lazy.put(ATTRIBUTE2, VALUE3.clone());
+
+    assert lazy.equals(eager);
+    assert eager.equals(lazy);
+  }
+
+  @Test
+  public void testEqualsOnceCopied()
+  {
+    AttributeHandleValueMap lazy = createLazyMap();
+    AttributeHandleValueMap eager = createEagerMap();
+
+    lazy.put(ATTRIBUTE3, VALUE3.clone());
+    eager.put(ATTRIBUTE3, VALUE3.clone());
+
+    assert lazy.equals(eager);
+    assert eager.equals(lazy);
+  }
+
+  @Test
+  public void testHashCode()
+  {
+    AttributeHandleValueMap lazy = createLazyMap();
+    AttributeHandleValueMap eager = createEagerMap();
+
+    assert lazy.hashCode() == eager.hashCode();
+    assert lazy.hashCode() == createLazyMap().hashCode();
+
+    // still hashed by content once the view has been copied into a regular map
+    //
+    lazy.put(ATTRIBUTE3, VALUE3.clone());
+    eager.put(ATTRIBUTE3, VALUE3.clone());
+
+    assert lazy.hashCode() == eager.hashCode();
+  }
+
+  @Test
+  public void testSerialization()
+    throws Exception
+  {
+    AttributeHandleValueMap lazy = createLazyMap();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(out))
+    {
+      oos.writeObject(lazy);
+    }
+
+    Object deserialized;
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray())))
+    {
+      deserialized = ois.readObject();
+    }
+
+    // serialized as the regular map it would be copied into
+    //
+    assert deserialized instanceof IEEE1516eAttributeHandleValueMap : deserialized;
+    assert lazy.equals(deserialized);
+  }
+
+  private AttributeHandleValueMap createLazyMap()
+  {
+    List<MessageProtos.AttributeValue> attributeValues = new ArrayList<>();
+    attributeValues.add(MessageProtos.AttributeValue.newBuilder().setAttributeHandle(1).setValue(
+      ByteString.copyFrom(VALUE1)).build());
+    attributeValues.add(MessageProtos.AttributeValue.newBuilder().setAttributeHandle(2).setValue(
+      ByteString.copyFrom(VALUE2)).build());
+    return new LazyAttributeHandleValueMap(attributeValues);
+  }
+
+  private AttributeHandleValueMap createEagerMap()
+  {
+    AttributeHandleValueMap map = new IEEE1516eAttributeHandleValueMap();
+    map.put(ATTRIBUTE1, VALUE1.clone());
+    map.put(ATTRIBUTE2, VALUE2.clone());
+    return map;
+  }
+}